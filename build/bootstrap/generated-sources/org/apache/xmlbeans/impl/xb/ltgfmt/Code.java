@@ -0,0 +1,126 @@
+/*
+ * XML Type:  code
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.Code
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt;
+
+
+/**
+ * An XML code(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+ *
+ * This is a complex type.
+ */
+public interface Code extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Code.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("codef72ftype");
+    
+    /**
+     * Gets the "ID" attribute
+     */
+    java.lang.String getID();
+    
+    /**
+     * Gets (as xml) the "ID" attribute
+     */
+    org.apache.xmlbeans.XmlToken xgetID();
+    
+    /**
+     * True if has "ID" attribute
+     */
+    boolean isSetID();
+    
+    /**
+     * Sets the "ID" attribute
+     */
+    void setID(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "ID" attribute
+     */
+    void xsetID(org.apache.xmlbeans.XmlToken id);
+    
+    /**
+     * Unsets the "ID" attribute
+     */
+    void unsetID();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code newInstance() {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.Code parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.Code) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
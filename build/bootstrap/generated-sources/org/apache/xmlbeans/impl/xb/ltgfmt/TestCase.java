@@ -0,0 +1,298 @@
+/*
+ * XML Type:  test-case
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.TestCase
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt;
+
+
+/**
+ * An XML test-case(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+ *
+ * This is a complex type.
+ */
+public interface TestCase extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestCase.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("testcase939btype");
+    
+    /**
+     * Gets the "description" element
+     */
+    java.lang.String getDescription();
+    
+    /**
+     * Gets (as xml) the "description" element
+     */
+    org.apache.xmlbeans.XmlString xgetDescription();
+    
+    /**
+     * True if has "description" element
+     */
+    boolean isSetDescription();
+    
+    /**
+     * Sets the "description" element
+     */
+    void setDescription(java.lang.String description);
+    
+    /**
+     * Sets (as xml) the "description" element
+     */
+    void xsetDescription(org.apache.xmlbeans.XmlString description);
+    
+    /**
+     * Unsets the "description" element
+     */
+    void unsetDescription();
+    
+    /**
+     * Gets the "files" element
+     */
+    org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files getFiles();
+    
+    /**
+     * Sets the "files" element
+     */
+    void setFiles(org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files files);
+    
+    /**
+     * Appends and returns a new empty "files" element
+     */
+    org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files addNewFiles();
+    
+    /**
+     * Gets the "id" attribute
+     */
+    java.lang.String getId();
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    org.apache.xmlbeans.XmlID xgetId();
+    
+    /**
+     * True if has "id" attribute
+     */
+    boolean isSetId();
+    
+    /**
+     * Sets the "id" attribute
+     */
+    void setId(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    void xsetId(org.apache.xmlbeans.XmlID id);
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    void unsetId();
+    
+    /**
+     * Gets the "origin" attribute
+     */
+    java.lang.String getOrigin();
+    
+    /**
+     * Gets (as xml) the "origin" attribute
+     */
+    org.apache.xmlbeans.XmlToken xgetOrigin();
+    
+    /**
+     * True if has "origin" attribute
+     */
+    boolean isSetOrigin();
+    
+    /**
+     * Sets the "origin" attribute
+     */
+    void setOrigin(java.lang.String origin);
+    
+    /**
+     * Sets (as xml) the "origin" attribute
+     */
+    void xsetOrigin(org.apache.xmlbeans.XmlToken origin);
+    
+    /**
+     * Unsets the "origin" attribute
+     */
+    void unsetOrigin();
+    
+    /**
+     * Gets the "modified" attribute
+     */
+    boolean getModified();
+    
+    /**
+     * Gets (as xml) the "modified" attribute
+     */
+    org.apache.xmlbeans.XmlBoolean xgetModified();
+    
+    /**
+     * True if has "modified" attribute
+     */
+    boolean isSetModified();
+    
+    /**
+     * Sets the "modified" attribute
+     */
+    void setModified(boolean modified);
+    
+    /**
+     * Sets (as xml) the "modified" attribute
+     */
+    void xsetModified(org.apache.xmlbeans.XmlBoolean modified);
+    
+    /**
+     * Unsets the "modified" attribute
+     */
+    void unsetModified();
+    
+    /**
+     * An XML files(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+     *
+     * This is a complex type.
+     */
+    public interface Files extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Files.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("files7c3eelemtype");
+        
+        /**
+         * Gets array of all "file" elements
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc[] getFileArray();
+        
+        /**
+         * Gets ith "file" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc getFileArray(int i);
+        
+        /**
+         * Returns number of "file" element
+         */
+        int sizeOfFileArray();
+        
+        /**
+         * Sets array of all "file" element
+         */
+        void setFileArray(org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc[] fileArray);
+        
+        /**
+         * Sets ith "file" element
+         */
+        void setFileArray(int i, org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc file);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "file" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc insertNewFile(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "file" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc addNewFile();
+        
+        /**
+         * Removes the ith "file" element
+         */
+        void removeFile(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files newInstance() {
+              return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase.Files) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase newInstance() {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestCase parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
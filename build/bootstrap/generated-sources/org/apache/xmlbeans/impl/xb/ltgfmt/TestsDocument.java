@@ -0,0 +1,179 @@
+/*
+ * An XML document type.
+ * Localname: tests
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt;
+
+
+/**
+ * A document containing one tests(@http://www.bea.com/2003/05/xmlbean/ltgfmt) element.
+ *
+ * This is a complex type.
+ */
+public interface TestsDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestsDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("tests5621doctype");
+    
+    /**
+     * Gets the "tests" element
+     */
+    org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests getTests();
+    
+    /**
+     * Sets the "tests" element
+     */
+    void setTests(org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests tests);
+    
+    /**
+     * Appends and returns a new empty "tests" element
+     */
+    org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests addNewTests();
+    
+    /**
+     * An XML tests(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+     *
+     * This is a complex type.
+     */
+    public interface Tests extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Tests.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("tests9d6eelemtype");
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[] getTestArray();
+        
+        /**
+         * Gets ith "test" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.TestCase getTestArray(int i);
+        
+        /**
+         * Returns number of "test" element
+         */
+        int sizeOfTestArray();
+        
+        /**
+         * Sets array of all "test" element
+         */
+        void setTestArray(org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[] testArray);
+        
+        /**
+         * Sets ith "test" element
+         */
+        void setTestArray(int i, org.apache.xmlbeans.impl.xb.ltgfmt.TestCase test);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.TestCase insertNewTest(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        org.apache.xmlbeans.impl.xb.ltgfmt.TestCase addNewTest();
+        
+        /**
+         * Removes the ith "test" element
+         */
+        void removeTest(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests newInstance() {
+              return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument newInstance() {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * XML Type:  code
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.Code
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt.impl;
+/**
+ * An XML code(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+ *
+ * This is a complex type.
+ */
+public class CodeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.ltgfmt.Code
+{
+    
+    public CodeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("", "ID");
+    
+    
+    /**
+     * Gets the "ID" attribute
+     */
+    public java.lang.String getID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ID" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(ID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ID" attribute
+     */
+    public boolean isSetID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "ID" attribute
+     */
+    public void setID(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$0);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ID" attribute
+     */
+    public void xsetID(org.apache.xmlbeans.XmlToken id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(ID$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(ID$0);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Unsets the "ID" attribute
+     */
+    public void unsetID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID$0);
+        }
+    }
+}
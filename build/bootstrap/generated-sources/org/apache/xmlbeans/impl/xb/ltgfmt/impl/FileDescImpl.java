@@ -0,0 +1,587 @@
+/*
+ * XML Type:  file-desc
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt.impl;
+/**
+ * An XML file-desc(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+ *
+ * This is a complex type.
+ */
+public class FileDescImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc
+{
+    
+    public FileDescImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CODE$0 = 
+        new javax.xml.namespace.QName("http://www.bea.com/2003/05/xmlbean/ltgfmt", "code");
+    private static final javax.xml.namespace.QName TSDIR$2 = 
+        new javax.xml.namespace.QName("", "tsDir");
+    private static final javax.xml.namespace.QName FOLDER$4 = 
+        new javax.xml.namespace.QName("", "folder");
+    private static final javax.xml.namespace.QName FILENAME$6 = 
+        new javax.xml.namespace.QName("", "fileName");
+    private static final javax.xml.namespace.QName ROLE$8 = 
+        new javax.xml.namespace.QName("", "role");
+    private static final javax.xml.namespace.QName VALIDITY$10 = 
+        new javax.xml.namespace.QName("", "validity");
+    
+    
+    /**
+     * Gets the "code" element
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.Code getCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.Code target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.Code)get_store().find_element_user(CODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "code" element
+     */
+    public boolean isSetCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CODE$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "code" element
+     */
+    public void setCode(org.apache.xmlbeans.impl.xb.ltgfmt.Code code)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.Code target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.Code)get_store().find_element_user(CODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.Code)get_store().add_element_user(CODE$0);
+            }
+            target.set(code);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "code" element
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.Code addNewCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.Code target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.Code)get_store().add_element_user(CODE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "code" element
+     */
+    public void unsetCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CODE$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "tsDir" attribute
+     */
+    public java.lang.String getTsDir()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TSDIR$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "tsDir" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetTsDir()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(TSDIR$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "tsDir" attribute
+     */
+    public boolean isSetTsDir()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TSDIR$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "tsDir" attribute
+     */
+    public void setTsDir(java.lang.String tsDir)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TSDIR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TSDIR$2);
+            }
+            target.setStringValue(tsDir);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "tsDir" attribute
+     */
+    public void xsetTsDir(org.apache.xmlbeans.XmlToken tsDir)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(TSDIR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(TSDIR$2);
+            }
+            target.set(tsDir);
+        }
+    }
+    
+    /**
+     * Unsets the "tsDir" attribute
+     */
+    public void unsetTsDir()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TSDIR$2);
+        }
+    }
+    
+    /**
+     * Gets the "folder" attribute
+     */
+    public java.lang.String getFolder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FOLDER$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "folder" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetFolder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(FOLDER$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "folder" attribute
+     */
+    public boolean isSetFolder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(FOLDER$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "folder" attribute
+     */
+    public void setFolder(java.lang.String folder)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FOLDER$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FOLDER$4);
+            }
+            target.setStringValue(folder);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "folder" attribute
+     */
+    public void xsetFolder(org.apache.xmlbeans.XmlToken folder)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(FOLDER$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(FOLDER$4);
+            }
+            target.set(folder);
+        }
+    }
+    
+    /**
+     * Unsets the "folder" attribute
+     */
+    public void unsetFolder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(FOLDER$4);
+        }
+    }
+    
+    /**
+     * Gets the "fileName" attribute
+     */
+    public java.lang.String getFileName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILENAME$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "fileName" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetFileName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(FILENAME$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "fileName" attribute
+     */
+    public boolean isSetFileName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(FILENAME$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "fileName" attribute
+     */
+    public void setFileName(java.lang.String fileName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILENAME$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FILENAME$6);
+            }
+            target.setStringValue(fileName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "fileName" attribute
+     */
+    public void xsetFileName(org.apache.xmlbeans.XmlToken fileName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(FILENAME$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(FILENAME$6);
+            }
+            target.set(fileName);
+        }
+    }
+    
+    /**
+     * Unsets the "fileName" attribute
+     */
+    public void unsetFileName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(FILENAME$6);
+        }
+    }
+    
+    /**
+     * Gets the "role" attribute
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role.Enum getRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "role" attribute
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role xgetRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role)get_store().find_attribute_user(ROLE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "role" attribute
+     */
+    public boolean isSetRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ROLE$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "role" attribute
+     */
+    public void setRole(org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role.Enum role)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ROLE$8);
+            }
+            target.setEnumValue(role);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "role" attribute
+     */
+    public void xsetRole(org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role role)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role)get_store().find_attribute_user(ROLE$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role)get_store().add_attribute_user(ROLE$8);
+            }
+            target.set(role);
+        }
+    }
+    
+    /**
+     * Unsets the "role" attribute
+     */
+    public void unsetRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ROLE$8);
+        }
+    }
+    
+    /**
+     * Gets the "validity" attribute
+     */
+    public boolean getValidity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VALIDITY$10);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "validity" attribute
+     */
+    public org.apache.xmlbeans.XmlBoolean xgetValidity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBoolean target = null;
+            target = (org.apache.xmlbeans.XmlBoolean)get_store().find_attribute_user(VALIDITY$10);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "validity" attribute
+     */
+    public boolean isSetValidity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(VALIDITY$10) != null;
+        }
+    }
+    
+    /**
+     * Sets the "validity" attribute
+     */
+    public void setValidity(boolean validity)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VALIDITY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VALIDITY$10);
+            }
+            target.setBooleanValue(validity);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "validity" attribute
+     */
+    public void xsetValidity(org.apache.xmlbeans.XmlBoolean validity)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBoolean target = null;
+            target = (org.apache.xmlbeans.XmlBoolean)get_store().find_attribute_user(VALIDITY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().add_attribute_user(VALIDITY$10);
+            }
+            target.set(validity);
+        }
+    }
+    
+    /**
+     * Unsets the "validity" attribute
+     */
+    public void unsetValidity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(VALIDITY$10);
+        }
+    }
+    /**
+     * An XML role(@).
+     *
+     * This is an atomic type that is a restriction of org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc$Role.
+     */
+    public static class RoleImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.apache.xmlbeans.impl.xb.ltgfmt.FileDesc.Role
+    {
+        
+        public RoleImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected RoleImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
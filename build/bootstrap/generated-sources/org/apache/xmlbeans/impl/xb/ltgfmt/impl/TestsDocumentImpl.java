@@ -0,0 +1,209 @@
+/*
+ * An XML document type.
+ * Localname: tests
+ * Namespace: http://www.bea.com/2003/05/xmlbean/ltgfmt
+ * Java type: org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.ltgfmt.impl;
+/**
+ * A document containing one tests(@http://www.bea.com/2003/05/xmlbean/ltgfmt) element.
+ *
+ * This is a complex type.
+ */
+public class TestsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument
+{
+    
+    public TestsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTS$0 = 
+        new javax.xml.namespace.QName("http://www.bea.com/2003/05/xmlbean/ltgfmt", "tests");
+    
+    
+    /**
+     * Gets the "tests" element
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests getTests()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests)get_store().find_element_user(TESTS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "tests" element
+     */
+    public void setTests(org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests tests)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests)get_store().find_element_user(TESTS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests)get_store().add_element_user(TESTS$0);
+            }
+            target.set(tests);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "tests" element
+     */
+    public org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests addNewTests()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests target = null;
+            target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests)get_store().add_element_user(TESTS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML tests(@http://www.bea.com/2003/05/xmlbean/ltgfmt).
+     *
+     * This is a complex type.
+     */
+    public static class TestsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.ltgfmt.TestsDocument.Tests
+    {
+        
+        public TestsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName TEST$0 = 
+            new javax.xml.namespace.QName("http://www.bea.com/2003/05/xmlbean/ltgfmt", "test");
+        
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        public org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[] getTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TEST$0, targetList);
+                org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[] result = new org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test" element
+         */
+        public org.apache.xmlbeans.impl.xb.ltgfmt.TestCase getTestArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.ltgfmt.TestCase target = null;
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test" element
+         */
+        public int sizeOfTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TEST$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "test" element
+         */
+        public void setTestArray(org.apache.xmlbeans.impl.xb.ltgfmt.TestCase[] testArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(testArray, TEST$0);
+            }
+        }
+        
+        /**
+         * Sets ith "test" element
+         */
+        public void setTestArray(int i, org.apache.xmlbeans.impl.xb.ltgfmt.TestCase test)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.ltgfmt.TestCase target = null;
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(test);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        public org.apache.xmlbeans.impl.xb.ltgfmt.TestCase insertNewTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.ltgfmt.TestCase target = null;
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase)get_store().insert_element_user(TEST$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        public org.apache.xmlbeans.impl.xb.ltgfmt.TestCase addNewTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.ltgfmt.TestCase target = null;
+                target = (org.apache.xmlbeans.impl.xb.ltgfmt.TestCase)get_store().add_element_user(TEST$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test" element
+         */
+        public void removeTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TEST$0, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * XML Type:  TImport
+ * Namespace: http://www.apache.org/internal/xmlbeans/wsdlsubst
+ * Java type: org.apache.xmlbeans.impl.xb.substwsdl.TImport
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.substwsdl.impl;
+/**
+ * An XML TImport(@http://www.apache.org/internal/xmlbeans/wsdlsubst).
+ *
+ * This is a complex type.
+ */
+public class TImportImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.substwsdl.TImport
+{
+    
+    public TImportImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMESPACE$0 = 
+        new javax.xml.namespace.QName("", "namespace");
+    private static final javax.xml.namespace.QName LOCATION$2 = 
+        new javax.xml.namespace.QName("", "location");
+    
+    
+    /**
+     * Gets the "namespace" attribute
+     */
+    public java.lang.String getNamespace()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMESPACE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "namespace" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetNamespace()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(NAMESPACE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "namespace" attribute
+     */
+    public void setNamespace(java.lang.String namespace)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMESPACE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAMESPACE$0);
+            }
+            target.setStringValue(namespace);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "namespace" attribute
+     */
+    public void xsetNamespace(org.apache.xmlbeans.XmlAnyURI namespace)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(NAMESPACE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(NAMESPACE$0);
+            }
+            target.set(namespace);
+        }
+    }
+    
+    /**
+     * Gets the "location" attribute
+     */
+    public java.lang.String getLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOCATION$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "location" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(LOCATION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "location" attribute
+     */
+    public void setLocation(java.lang.String location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOCATION$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LOCATION$2);
+            }
+            target.setStringValue(location);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "location" attribute
+     */
+    public void xsetLocation(org.apache.xmlbeans.XmlAnyURI location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(LOCATION$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(LOCATION$2);
+            }
+            target.set(location);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * XML Type:  extensionconfig
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig;
+
+
+/**
+ * An XML extensionconfig(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is a complex type.
+ */
+public interface Extensionconfig extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Extensionconfig.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("extensionconfig2ac2type");
+    
+    /**
+     * Gets array of all "interface" elements
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface[] getInterfaceArray();
+    
+    /**
+     * Gets ith "interface" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface getInterfaceArray(int i);
+    
+    /**
+     * Returns number of "interface" element
+     */
+    int sizeOfInterfaceArray();
+    
+    /**
+     * Sets array of all "interface" element
+     */
+    void setInterfaceArray(org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface[] xinterfaceArray);
+    
+    /**
+     * Sets ith "interface" element
+     */
+    void setInterfaceArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface xinterface);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "interface" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface insertNewInterface(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "interface" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface addNewInterface();
+    
+    /**
+     * Removes the ith "interface" element
+     */
+    void removeInterface(int i);
+    
+    /**
+     * Gets the "prePostSet" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet getPrePostSet();
+    
+    /**
+     * True if has "prePostSet" element
+     */
+    boolean isSetPrePostSet();
+    
+    /**
+     * Sets the "prePostSet" element
+     */
+    void setPrePostSet(org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet prePostSet);
+    
+    /**
+     * Appends and returns a new empty "prePostSet" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet addNewPrePostSet();
+    
+    /**
+     * Unsets the "prePostSet" element
+     */
+    void unsetPrePostSet();
+    
+    /**
+     * Gets the "for" attribute
+     */
+    java.lang.Object getFor();
+    
+    /**
+     * Gets (as xml) the "for" attribute
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.JavaNameList xgetFor();
+    
+    /**
+     * True if has "for" attribute
+     */
+    boolean isSetFor();
+    
+    /**
+     * Sets the "for" attribute
+     */
+    void setFor(java.lang.Object xfor);
+    
+    /**
+     * Sets (as xml) the "for" attribute
+     */
+    void xsetFor(org.apache.xmlbeans.impl.xb.xmlconfig.JavaNameList xfor);
+    
+    /**
+     * Unsets the "for" attribute
+     */
+    void unsetFor();
+    
+    /**
+     * An XML interface(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+     *
+     * This is a complex type.
+     */
+    public interface Interface extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Interface.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("interface02a7elemtype");
+        
+        /**
+         * Gets the "staticHandler" element
+         */
+        java.lang.String getStaticHandler();
+        
+        /**
+         * Gets (as xml) the "staticHandler" element
+         */
+        org.apache.xmlbeans.XmlString xgetStaticHandler();
+        
+        /**
+         * Sets the "staticHandler" element
+         */
+        void setStaticHandler(java.lang.String staticHandler);
+        
+        /**
+         * Sets (as xml) the "staticHandler" element
+         */
+        void xsetStaticHandler(org.apache.xmlbeans.XmlString staticHandler);
+        
+        /**
+         * Gets the "name" attribute
+         */
+        java.lang.String getName();
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetName();
+        
+        /**
+         * True if has "name" attribute
+         */
+        boolean isSetName();
+        
+        /**
+         * Sets the "name" attribute
+         */
+        void setName(java.lang.String name);
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        void xsetName(org.apache.xmlbeans.XmlString name);
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        void unsetName();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.Interface) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML prePostSet(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+     *
+     * This is a complex type.
+     */
+    public interface PrePostSet extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PrePostSet.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("prepostset5c9delemtype");
+        
+        /**
+         * Gets the "staticHandler" element
+         */
+        java.lang.String getStaticHandler();
+        
+        /**
+         * Gets (as xml) the "staticHandler" element
+         */
+        org.apache.xmlbeans.XmlString xgetStaticHandler();
+        
+        /**
+         * Sets the "staticHandler" element
+         */
+        void setStaticHandler(java.lang.String staticHandler);
+        
+        /**
+         * Sets (as xml) the "staticHandler" element
+         */
+        void xsetStaticHandler(org.apache.xmlbeans.XmlString staticHandler);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig.PrePostSet) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * XML Type:  nsconfig
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig;
+
+
+/**
+ * An XML nsconfig(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is a complex type.
+ */
+public interface Nsconfig extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Nsconfig.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("nsconfigaebatype");
+    
+    /**
+     * Gets the "package" element
+     */
+    java.lang.String getPackage();
+    
+    /**
+     * Gets (as xml) the "package" element
+     */
+    org.apache.xmlbeans.XmlString xgetPackage();
+    
+    /**
+     * True if has "package" element
+     */
+    boolean isSetPackage();
+    
+    /**
+     * Sets the "package" element
+     */
+    void setPackage(java.lang.String xpackage);
+    
+    /**
+     * Sets (as xml) the "package" element
+     */
+    void xsetPackage(org.apache.xmlbeans.XmlString xpackage);
+    
+    /**
+     * Unsets the "package" element
+     */
+    void unsetPackage();
+    
+    /**
+     * Gets the "prefix" element
+     */
+    java.lang.String getPrefix();
+    
+    /**
+     * Gets (as xml) the "prefix" element
+     */
+    org.apache.xmlbeans.XmlString xgetPrefix();
+    
+    /**
+     * True if has "prefix" element
+     */
+    boolean isSetPrefix();
+    
+    /**
+     * Sets the "prefix" element
+     */
+    void setPrefix(java.lang.String prefix);
+    
+    /**
+     * Sets (as xml) the "prefix" element
+     */
+    void xsetPrefix(org.apache.xmlbeans.XmlString prefix);
+    
+    /**
+     * Unsets the "prefix" element
+     */
+    void unsetPrefix();
+    
+    /**
+     * Gets the "suffix" element
+     */
+    java.lang.String getSuffix();
+    
+    /**
+     * Gets (as xml) the "suffix" element
+     */
+    org.apache.xmlbeans.XmlString xgetSuffix();
+    
+    /**
+     * True if has "suffix" element
+     */
+    boolean isSetSuffix();
+    
+    /**
+     * Sets the "suffix" element
+     */
+    void setSuffix(java.lang.String suffix);
+    
+    /**
+     * Sets (as xml) the "suffix" element
+     */
+    void xsetSuffix(org.apache.xmlbeans.XmlString suffix);
+    
+    /**
+     * Unsets the "suffix" element
+     */
+    void unsetSuffix();
+    
+    /**
+     * Gets the "uri" attribute
+     */
+    java.lang.Object getUri();
+    
+    /**
+     * Gets (as xml) the "uri" attribute
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.NamespaceList xgetUri();
+    
+    /**
+     * True if has "uri" attribute
+     */
+    boolean isSetUri();
+    
+    /**
+     * Sets the "uri" attribute
+     */
+    void setUri(java.lang.Object uri);
+    
+    /**
+     * Sets (as xml) the "uri" attribute
+     */
+    void xsetUri(org.apache.xmlbeans.impl.xb.xmlconfig.NamespaceList uri);
+    
+    /**
+     * Unsets the "uri" attribute
+     */
+    void unsetUri();
+    
+    /**
+     * Gets the "uriprefix" attribute
+     */
+    java.util.List getUriprefix();
+    
+    /**
+     * Gets (as xml) the "uriprefix" attribute
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.NamespacePrefixList xgetUriprefix();
+    
+    /**
+     * True if has "uriprefix" attribute
+     */
+    boolean isSetUriprefix();
+    
+    /**
+     * Sets the "uriprefix" attribute
+     */
+    void setUriprefix(java.util.List uriprefix);
+    
+    /**
+     * Sets (as xml) the "uriprefix" attribute
+     */
+    void xsetUriprefix(org.apache.xmlbeans.impl.xb.xmlconfig.NamespacePrefixList uriprefix);
+    
+    /**
+     * Unsets the "uriprefix" attribute
+     */
+    void unsetUriprefix();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * XML Type:  qnametargetenum
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig;
+
+
+/**
+ * An XML qnametargetenum(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is an atomic type that is a restriction of org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum.
+ */
+public interface Qnametargetenum extends org.apache.xmlbeans.XmlToken
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Qnametargetenum.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("qnametargetenum9f8ftype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum TYPE = Enum.forString("type");
+    static final Enum DOCUMENT_TYPE = Enum.forString("document-type");
+    static final Enum ACCESSOR_ELEMENT = Enum.forString("accessor-element");
+    static final Enum ACCESSOR_ATTRIBUTE = Enum.forString("accessor-attribute");
+    
+    static final int INT_TYPE = Enum.INT_TYPE;
+    static final int INT_DOCUMENT_TYPE = Enum.INT_DOCUMENT_TYPE;
+    static final int INT_ACCESSOR_ELEMENT = Enum.INT_ACCESSOR_ELEMENT;
+    static final int INT_ACCESSOR_ATTRIBUTE = Enum.INT_ACCESSOR_ATTRIBUTE;
+    
+    /**
+     * Enumeration value class for org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_TYPE
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_TYPE = 1;
+        static final int INT_DOCUMENT_TYPE = 2;
+        static final int INT_ACCESSOR_ELEMENT = 3;
+        static final int INT_ACCESSOR_ATTRIBUTE = 4;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("type", INT_TYPE),
+                new Enum("document-type", INT_DOCUMENT_TYPE),
+                new Enum("accessor-element", INT_ACCESSOR_ELEMENT),
+                new Enum("accessor-attribute", INT_ACCESSOR_ATTRIBUTE),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum newValue(java.lang.Object obj) {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) type.newValue( obj ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
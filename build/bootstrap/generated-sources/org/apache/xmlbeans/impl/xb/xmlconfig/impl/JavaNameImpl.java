@@ -0,0 +1,26 @@
+/*
+ * XML Type:  javaName
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.JavaName
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig.impl;
+/**
+ * An XML javaName(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is an atomic type that is a restriction of org.apache.xmlbeans.impl.xb.xmlconfig.JavaName.
+ */
+public class JavaNameImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.apache.xmlbeans.impl.xb.xmlconfig.JavaName
+{
+    
+    public JavaNameImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected JavaNameImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
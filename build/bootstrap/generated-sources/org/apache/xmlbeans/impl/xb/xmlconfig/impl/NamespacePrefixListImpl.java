@@ -0,0 +1,26 @@
+/*
+ * XML Type:  namespacePrefixList
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.NamespacePrefixList
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig.impl;
+/**
+ * An XML namespacePrefixList(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is a list type whose items are org.apache.xmlbeans.XmlAnyURI.
+ */
+public class NamespacePrefixListImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements org.apache.xmlbeans.impl.xb.xmlconfig.NamespacePrefixList
+{
+    
+    public NamespacePrefixListImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected NamespacePrefixListImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * XML Type:  qnametargetenum
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig.impl;
+/**
+ * An XML qnametargetenum(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is an atomic type that is a restriction of org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum.
+ */
+public class QnametargetenumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum
+{
+    
+    public QnametargetenumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected QnametargetenumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * XML Type:  qnametargetlist
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetlist
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig.impl;
+/**
+ * An XML qnametargetlist(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+ *
+ * This is a list type whose items are org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetenum.
+ */
+public class QnametargetlistImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements org.apache.xmlbeans.impl.xb.xmlconfig.Qnametargetlist
+{
+    
+    public QnametargetlistImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected QnametargetlistImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
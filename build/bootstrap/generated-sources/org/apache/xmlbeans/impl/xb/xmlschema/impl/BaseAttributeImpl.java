@@ -0,0 +1,118 @@
+/*
+ * An XML attribute type.
+ * Localname: base
+ * Namespace: http://www.w3.org/XML/1998/namespace
+ * Java type: org.apache.xmlbeans.impl.xb.xmlschema.BaseAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlschema.impl;
+/**
+ * A document containing one base(@http://www.w3.org/XML/1998/namespace) attribute.
+ *
+ * This is a complex type.
+ */
+public class BaseAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xmlschema.BaseAttribute
+{
+    
+    public BaseAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BASE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/XML/1998/namespace", "base");
+    
+    
+    /**
+     * Gets the "base" attribute
+     */
+    public java.lang.String getBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BASE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "base" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(BASE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "base" attribute
+     */
+    public boolean isSetBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(BASE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "base" attribute
+     */
+    public void setBase(java.lang.String base)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BASE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(BASE$0);
+            }
+            target.setStringValue(base);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "base" attribute
+     */
+    public void xsetBase(org.apache.xmlbeans.XmlAnyURI base)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(BASE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(BASE$0);
+            }
+            target.set(base);
+        }
+    }
+    
+    /**
+     * Unsets the "base" attribute
+     */
+    public void unsetBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(BASE$0);
+        }
+    }
+}
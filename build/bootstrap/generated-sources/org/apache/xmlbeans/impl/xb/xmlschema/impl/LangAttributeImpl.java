@@ -0,0 +1,118 @@
+/*
+ * An XML attribute type.
+ * Localname: lang
+ * Namespace: http://www.w3.org/XML/1998/namespace
+ * Java type: org.apache.xmlbeans.impl.xb.xmlschema.LangAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlschema.impl;
+/**
+ * A document containing one lang(@http://www.w3.org/XML/1998/namespace) attribute.
+ *
+ * This is a complex type.
+ */
+public class LangAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xmlschema.LangAttribute
+{
+    
+    public LangAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LANG$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/XML/1998/namespace", "lang");
+    
+    
+    /**
+     * Gets the "lang" attribute
+     */
+    public java.lang.String getLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "lang" attribute
+     */
+    public org.apache.xmlbeans.XmlLanguage xgetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "lang" attribute
+     */
+    public boolean isSetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LANG$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "lang" attribute
+     */
+    public void setLang(java.lang.String lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LANG$0);
+            }
+            target.setStringValue(lang);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "lang" attribute
+     */
+    public void xsetLang(org.apache.xmlbeans.XmlLanguage lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLanguage)get_store().add_attribute_user(LANG$0);
+            }
+            target.set(lang);
+        }
+    }
+    
+    /**
+     * Unsets the "lang" attribute
+     */
+    public void unsetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LANG$0);
+        }
+    }
+}
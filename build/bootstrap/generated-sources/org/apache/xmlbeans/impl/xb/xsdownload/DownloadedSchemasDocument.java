@@ -0,0 +1,209 @@
+/*
+ * An XML document type.
+ * Localname: downloaded-schemas
+ * Namespace: http://www.bea.com/2003/01/xmlbean/xsdownload
+ * Java type: org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdownload;
+
+
+/**
+ * A document containing one downloaded-schemas(@http://www.bea.com/2003/01/xmlbean/xsdownload) element.
+ *
+ * This is a complex type.
+ */
+public interface DownloadedSchemasDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DownloadedSchemasDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("downloadedschemas2dd7doctype");
+    
+    /**
+     * Gets the "downloaded-schemas" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas getDownloadedSchemas();
+    
+    /**
+     * Sets the "downloaded-schemas" element
+     */
+    void setDownloadedSchemas(org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas downloadedSchemas);
+    
+    /**
+     * Appends and returns a new empty "downloaded-schemas" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas addNewDownloadedSchemas();
+    
+    /**
+     * An XML downloaded-schemas(@http://www.bea.com/2003/01/xmlbean/xsdownload).
+     *
+     * This is a complex type.
+     */
+    public interface DownloadedSchemas extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DownloadedSchemas.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLTOOLS").resolveHandle("downloadedschemasb3efelemtype");
+        
+        /**
+         * Gets array of all "entry" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry[] getEntryArray();
+        
+        /**
+         * Gets ith "entry" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry getEntryArray(int i);
+        
+        /**
+         * Returns number of "entry" element
+         */
+        int sizeOfEntryArray();
+        
+        /**
+         * Sets array of all "entry" element
+         */
+        void setEntryArray(org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry[] entryArray);
+        
+        /**
+         * Sets ith "entry" element
+         */
+        void setEntryArray(int i, org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry entry);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "entry" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry insertNewEntry(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "entry" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemaEntry addNewEntry();
+        
+        /**
+         * Removes the ith "entry" element
+         */
+        void removeEntry(int i);
+        
+        /**
+         * Gets the "defaultDirectory" attribute
+         */
+        java.lang.String getDefaultDirectory();
+        
+        /**
+         * Gets (as xml) the "defaultDirectory" attribute
+         */
+        org.apache.xmlbeans.XmlToken xgetDefaultDirectory();
+        
+        /**
+         * True if has "defaultDirectory" attribute
+         */
+        boolean isSetDefaultDirectory();
+        
+        /**
+         * Sets the "defaultDirectory" attribute
+         */
+        void setDefaultDirectory(java.lang.String defaultDirectory);
+        
+        /**
+         * Sets (as xml) the "defaultDirectory" attribute
+         */
+        void xsetDefaultDirectory(org.apache.xmlbeans.XmlToken defaultDirectory);
+        
+        /**
+         * Unsets the "defaultDirectory" attribute
+         */
+        void unsetDefaultDirectory();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument.DownloadedSchemas) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdownload.DownloadedSchemasDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * An XML document type.
+ * Localname: annotation
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema;
+
+
+/**
+ * A document containing one annotation(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public interface AnnotationDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AnnotationDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("annotationb034doctype");
+    
+    /**
+     * Gets the "annotation" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation getAnnotation();
+    
+    /**
+     * Sets the "annotation" element
+     */
+    void setAnnotation(org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation annotation);
+    
+    /**
+     * Appends and returns a new empty "annotation" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation addNewAnnotation();
+    
+    /**
+     * An XML annotation(@http://www.w3.org/2001/XMLSchema).
+     *
+     * This is a complex type.
+     */
+    public interface Annotation extends org.apache.xmlbeans.impl.xb.xsdschema.OpenAttrs
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Annotation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("annotation5abfelemtype");
+        
+        /**
+         * Gets array of all "appinfo" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo[] getAppinfoArray();
+        
+        /**
+         * Gets ith "appinfo" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo getAppinfoArray(int i);
+        
+        /**
+         * Returns number of "appinfo" element
+         */
+        int sizeOfAppinfoArray();
+        
+        /**
+         * Sets array of all "appinfo" element
+         */
+        void setAppinfoArray(org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo[] appinfoArray);
+        
+        /**
+         * Sets ith "appinfo" element
+         */
+        void setAppinfoArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo appinfo);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "appinfo" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo insertNewAppinfo(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "appinfo" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AppinfoDocument.Appinfo addNewAppinfo();
+        
+        /**
+         * Removes the ith "appinfo" element
+         */
+        void removeAppinfo(int i);
+        
+        /**
+         * Gets array of all "documentation" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation[] getDocumentationArray();
+        
+        /**
+         * Gets ith "documentation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation getDocumentationArray(int i);
+        
+        /**
+         * Returns number of "documentation" element
+         */
+        int sizeOfDocumentationArray();
+        
+        /**
+         * Sets array of all "documentation" element
+         */
+        void setDocumentationArray(org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation[] documentationArray);
+        
+        /**
+         * Sets ith "documentation" element
+         */
+        void setDocumentationArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation documentation);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "documentation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation insertNewDocumentation(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "documentation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.DocumentationDocument.Documentation addNewDocumentation();
+        
+        /**
+         * Removes the ith "documentation" element
+         */
+        void removeDocumentation(int i);
+        
+        /**
+         * Gets the "id" attribute
+         */
+        java.lang.String getId();
+        
+        /**
+         * Gets (as xml) the "id" attribute
+         */
+        org.apache.xmlbeans.XmlID xgetId();
+        
+        /**
+         * True if has "id" attribute
+         */
+        boolean isSetId();
+        
+        /**
+         * Sets the "id" attribute
+         */
+        void setId(java.lang.String id);
+        
+        /**
+         * Sets (as xml) the "id" attribute
+         */
+        void xsetId(org.apache.xmlbeans.XmlID id);
+        
+        /**
+         * Unsets the "id" attribute
+         */
+        void unsetId();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * XML Type:  attributeGroup
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema;
+
+
+/**
+ * An XML attributeGroup(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public interface AttributeGroup extends org.apache.xmlbeans.impl.xb.xsdschema.Annotated
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttributeGroup.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("attributegroupe530type");
+    
+    /**
+     * Gets array of all "attribute" elements
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Attribute[] getAttributeArray();
+    
+    /**
+     * Gets ith "attribute" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Attribute getAttributeArray(int i);
+    
+    /**
+     * Returns number of "attribute" element
+     */
+    int sizeOfAttributeArray();
+    
+    /**
+     * Sets array of all "attribute" element
+     */
+    void setAttributeArray(org.apache.xmlbeans.impl.xb.xsdschema.Attribute[] attributeArray);
+    
+    /**
+     * Sets ith "attribute" element
+     */
+    void setAttributeArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.Attribute attribute);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "attribute" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Attribute insertNewAttribute(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "attribute" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Attribute addNewAttribute();
+    
+    /**
+     * Removes the ith "attribute" element
+     */
+    void removeAttribute(int i);
+    
+    /**
+     * Gets array of all "attributeGroup" elements
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[] getAttributeGroupArray();
+    
+    /**
+     * Gets ith "attributeGroup" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef getAttributeGroupArray(int i);
+    
+    /**
+     * Returns number of "attributeGroup" element
+     */
+    int sizeOfAttributeGroupArray();
+    
+    /**
+     * Sets array of all "attributeGroup" element
+     */
+    void setAttributeGroupArray(org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[] attributeGroupArray);
+    
+    /**
+     * Sets ith "attributeGroup" element
+     */
+    void setAttributeGroupArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef attributeGroup);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "attributeGroup" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef insertNewAttributeGroup(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "attributeGroup" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef addNewAttributeGroup();
+    
+    /**
+     * Removes the ith "attributeGroup" element
+     */
+    void removeAttributeGroup(int i);
+    
+    /**
+     * Gets the "anyAttribute" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Wildcard getAnyAttribute();
+    
+    /**
+     * True if has "anyAttribute" element
+     */
+    boolean isSetAnyAttribute();
+    
+    /**
+     * Sets the "anyAttribute" element
+     */
+    void setAnyAttribute(org.apache.xmlbeans.impl.xb.xsdschema.Wildcard anyAttribute);
+    
+    /**
+     * Appends and returns a new empty "anyAttribute" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.Wildcard addNewAnyAttribute();
+    
+    /**
+     * Unsets the "anyAttribute" element
+     */
+    void unsetAnyAttribute();
+    
+    /**
+     * Gets the "name" attribute
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    org.apache.xmlbeans.XmlNCName xgetName();
+    
+    /**
+     * True if has "name" attribute
+     */
+    boolean isSetName();
+    
+    /**
+     * Sets the "name" attribute
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    void xsetName(org.apache.xmlbeans.XmlNCName name);
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    void unsetName();
+    
+    /**
+     * Gets the "ref" attribute
+     */
+    javax.xml.namespace.QName getRef();
+    
+    /**
+     * Gets (as xml) the "ref" attribute
+     */
+    org.apache.xmlbeans.XmlQName xgetRef();
+    
+    /**
+     * True if has "ref" attribute
+     */
+    boolean isSetRef();
+    
+    /**
+     * Sets the "ref" attribute
+     */
+    void setRef(javax.xml.namespace.QName ref);
+    
+    /**
+     * Sets (as xml) the "ref" attribute
+     */
+    void xsetRef(org.apache.xmlbeans.XmlQName ref);
+    
+    /**
+     * Unsets the "ref" attribute
+     */
+    void unsetRef();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        /** @deprecated No need to be able to create instances of abstract types */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        /** @deprecated No need to be able to create instances of abstract types */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * XML Type:  derivationControl
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema;
+
+
+/**
+ * An XML derivationControl(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is an atomic type that is a restriction of org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl.
+ */
+public interface DerivationControl extends org.apache.xmlbeans.XmlNMTOKEN
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DerivationControl.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("derivationcontrola5dftype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum SUBSTITUTION = Enum.forString("substitution");
+    static final Enum EXTENSION = Enum.forString("extension");
+    static final Enum RESTRICTION = Enum.forString("restriction");
+    static final Enum LIST = Enum.forString("list");
+    static final Enum UNION = Enum.forString("union");
+    
+    static final int INT_SUBSTITUTION = Enum.INT_SUBSTITUTION;
+    static final int INT_EXTENSION = Enum.INT_EXTENSION;
+    static final int INT_RESTRICTION = Enum.INT_RESTRICTION;
+    static final int INT_LIST = Enum.INT_LIST;
+    static final int INT_UNION = Enum.INT_UNION;
+    
+    /**
+     * Enumeration value class for org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_SUBSTITUTION
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_SUBSTITUTION = 1;
+        static final int INT_EXTENSION = 2;
+        static final int INT_RESTRICTION = 3;
+        static final int INT_LIST = 4;
+        static final int INT_UNION = 5;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("substitution", INT_SUBSTITUTION),
+                new Enum("extension", INT_EXTENSION),
+                new Enum("restriction", INT_RESTRICTION),
+                new Enum("list", INT_LIST),
+                new Enum("union", INT_UNION),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl newValue(java.lang.Object obj) {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) type.newValue( obj ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.DerivationControl) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
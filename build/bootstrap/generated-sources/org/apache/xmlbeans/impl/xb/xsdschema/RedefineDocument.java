@@ -0,0 +1,389 @@
+/*
+ * An XML document type.
+ * Localname: redefine
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema;
+
+
+/**
+ * A document containing one redefine(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public interface RedefineDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RedefineDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("redefine3f55doctype");
+    
+    /**
+     * Gets the "redefine" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine getRedefine();
+    
+    /**
+     * Sets the "redefine" element
+     */
+    void setRedefine(org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine redefine);
+    
+    /**
+     * Appends and returns a new empty "redefine" element
+     */
+    org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine addNewRedefine();
+    
+    /**
+     * An XML redefine(@http://www.w3.org/2001/XMLSchema).
+     *
+     * This is a complex type.
+     */
+    public interface Redefine extends org.apache.xmlbeans.impl.xb.xsdschema.OpenAttrs
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Redefine.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLSCHEMA").resolveHandle("redefine9e9felemtype");
+        
+        /**
+         * Gets array of all "annotation" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation[] getAnnotationArray();
+        
+        /**
+         * Gets ith "annotation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation getAnnotationArray(int i);
+        
+        /**
+         * Returns number of "annotation" element
+         */
+        int sizeOfAnnotationArray();
+        
+        /**
+         * Sets array of all "annotation" element
+         */
+        void setAnnotationArray(org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation[] annotationArray);
+        
+        /**
+         * Sets ith "annotation" element
+         */
+        void setAnnotationArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation annotation);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "annotation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation insertNewAnnotation(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "annotation" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation addNewAnnotation();
+        
+        /**
+         * Removes the ith "annotation" element
+         */
+        void removeAnnotation(int i);
+        
+        /**
+         * Gets array of all "simpleType" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType[] getSimpleTypeArray();
+        
+        /**
+         * Gets ith "simpleType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType getSimpleTypeArray(int i);
+        
+        /**
+         * Returns number of "simpleType" element
+         */
+        int sizeOfSimpleTypeArray();
+        
+        /**
+         * Sets array of all "simpleType" element
+         */
+        void setSimpleTypeArray(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType[] simpleTypeArray);
+        
+        /**
+         * Sets ith "simpleType" element
+         */
+        void setSimpleTypeArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType simpleType);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "simpleType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType insertNewSimpleType(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "simpleType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType addNewSimpleType();
+        
+        /**
+         * Removes the ith "simpleType" element
+         */
+        void removeSimpleType(int i);
+        
+        /**
+         * Gets array of all "complexType" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType[] getComplexTypeArray();
+        
+        /**
+         * Gets ith "complexType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType getComplexTypeArray(int i);
+        
+        /**
+         * Returns number of "complexType" element
+         */
+        int sizeOfComplexTypeArray();
+        
+        /**
+         * Sets array of all "complexType" element
+         */
+        void setComplexTypeArray(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType[] complexTypeArray);
+        
+        /**
+         * Sets ith "complexType" element
+         */
+        void setComplexTypeArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType complexType);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "complexType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType insertNewComplexType(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "complexType" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType addNewComplexType();
+        
+        /**
+         * Removes the ith "complexType" element
+         */
+        void removeComplexType(int i);
+        
+        /**
+         * Gets array of all "group" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup[] getGroupArray();
+        
+        /**
+         * Gets ith "group" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup getGroupArray(int i);
+        
+        /**
+         * Returns number of "group" element
+         */
+        int sizeOfGroupArray();
+        
+        /**
+         * Sets array of all "group" element
+         */
+        void setGroupArray(org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup[] groupArray);
+        
+        /**
+         * Sets ith "group" element
+         */
+        void setGroupArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup group);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "group" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup insertNewGroup(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "group" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup addNewGroup();
+        
+        /**
+         * Removes the ith "group" element
+         */
+        void removeGroup(int i);
+        
+        /**
+         * Gets array of all "attributeGroup" elements
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup[] getAttributeGroupArray();
+        
+        /**
+         * Gets ith "attributeGroup" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup getAttributeGroupArray(int i);
+        
+        /**
+         * Returns number of "attributeGroup" element
+         */
+        int sizeOfAttributeGroupArray();
+        
+        /**
+         * Sets array of all "attributeGroup" element
+         */
+        void setAttributeGroupArray(org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup[] attributeGroupArray);
+        
+        /**
+         * Sets ith "attributeGroup" element
+         */
+        void setAttributeGroupArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup attributeGroup);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "attributeGroup" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup insertNewAttributeGroup(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "attributeGroup" element
+         */
+        org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup addNewAttributeGroup();
+        
+        /**
+         * Removes the ith "attributeGroup" element
+         */
+        void removeAttributeGroup(int i);
+        
+        /**
+         * Gets the "schemaLocation" attribute
+         */
+        java.lang.String getSchemaLocation();
+        
+        /**
+         * Gets (as xml) the "schemaLocation" attribute
+         */
+        org.apache.xmlbeans.XmlAnyURI xgetSchemaLocation();
+        
+        /**
+         * Sets the "schemaLocation" attribute
+         */
+        void setSchemaLocation(java.lang.String schemaLocation);
+        
+        /**
+         * Sets (as xml) the "schemaLocation" attribute
+         */
+        void xsetSchemaLocation(org.apache.xmlbeans.XmlAnyURI schemaLocation);
+        
+        /**
+         * Gets the "id" attribute
+         */
+        java.lang.String getId();
+        
+        /**
+         * Gets (as xml) the "id" attribute
+         */
+        org.apache.xmlbeans.XmlID xgetId();
+        
+        /**
+         * True if has "id" attribute
+         */
+        boolean isSetId();
+        
+        /**
+         * Sets the "id" attribute
+         */
+        void setId(java.lang.String id);
+        
+        /**
+         * Sets (as xml) the "id" attribute
+         */
+        void xsetId(org.apache.xmlbeans.XmlID id);
+        
+        /**
+         * Unsets the "id" attribute
+         */
+        void unsetId();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument.Redefine) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xsdschema.RedefineDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
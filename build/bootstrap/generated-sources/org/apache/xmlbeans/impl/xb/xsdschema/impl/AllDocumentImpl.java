@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: all
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AllDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one all(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class AllDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.AllDocument
+{
+    
+    public AllDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ALL$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "all");
+    
+    
+    /**
+     * Gets the "all" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.All getAll()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.All target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.All)get_store().find_element_user(ALL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "all" element
+     */
+    public void setAll(org.apache.xmlbeans.impl.xb.xsdschema.All all)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.All target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.All)get_store().find_element_user(ALL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.All)get_store().add_element_user(ALL$0);
+            }
+            target.set(all);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "all" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.All addNewAll()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.All target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.All)get_store().add_element_user(ALL$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * XML Type:  annotated
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.Annotated
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML annotated(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class AnnotatedImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.OpenAttrsImpl implements org.apache.xmlbeans.impl.xb.xsdschema.Annotated
+{
+    
+    public AnnotatedImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANNOTATION$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "annotation");
+    private static final javax.xml.namespace.QName ID$2 = 
+        new javax.xml.namespace.QName("", "id");
+    
+    
+    /**
+     * Gets the "annotation" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation getAnnotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation)get_store().find_element_user(ANNOTATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "annotation" element
+     */
+    public boolean isSetAnnotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ANNOTATION$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "annotation" element
+     */
+    public void setAnnotation(org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation annotation)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation)get_store().find_element_user(ANNOTATION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation)get_store().add_element_user(ANNOTATION$0);
+            }
+            target.set(annotation);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "annotation" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation addNewAnnotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AnnotationDocument.Annotation)get_store().add_element_user(ANNOTATION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "annotation" element
+     */
+    public void unsetAnnotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ANNOTATION$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.String getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    public org.apache.xmlbeans.XmlID xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id" attribute
+     */
+    public boolean isSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$2);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    public void xsetId(org.apache.xmlbeans.XmlID id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID$2);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    public void unsetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID$2);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: anyAttribute
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AnyAttributeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one anyAttribute(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class AnyAttributeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.AnyAttributeDocument
+{
+    
+    public AnyAttributeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "anyAttribute");
+    
+    
+    /**
+     * Gets the "anyAttribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Wildcard getAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().find_element_user(ANYATTRIBUTE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "anyAttribute" element
+     */
+    public void setAnyAttribute(org.apache.xmlbeans.impl.xb.xsdschema.Wildcard anyAttribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().find_element_user(ANYATTRIBUTE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().add_element_user(ANYATTRIBUTE$0);
+            }
+            target.set(anyAttribute);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "anyAttribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Wildcard addNewAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().add_element_user(ANYATTRIBUTE$0);
+            return target;
+        }
+    }
+}
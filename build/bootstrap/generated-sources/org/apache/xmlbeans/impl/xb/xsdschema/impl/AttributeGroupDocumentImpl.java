@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: attributeGroup
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one attributeGroup(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class AttributeGroupDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupDocument
+{
+    
+    public AttributeGroupDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTEGROUP$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "attributeGroup");
+    
+    
+    /**
+     * Gets the "attributeGroup" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup getAttributeGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup)get_store().find_element_user(ATTRIBUTEGROUP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "attributeGroup" element
+     */
+    public void setAttributeGroup(org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup attributeGroup)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup)get_store().find_element_user(ATTRIBUTEGROUP$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup)get_store().add_element_user(ATTRIBUTEGROUP$0);
+            }
+            target.set(attributeGroup);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "attributeGroup" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup addNewAttributeGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedAttributeGroup)get_store().add_element_user(ATTRIBUTEGROUP$0);
+            return target;
+        }
+    }
+}
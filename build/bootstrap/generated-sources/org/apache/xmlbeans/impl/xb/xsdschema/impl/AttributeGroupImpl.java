@@ -0,0 +1,523 @@
+/*
+ * XML Type:  attributeGroup
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML attributeGroup(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class AttributeGroupImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.AnnotatedImpl implements org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroup
+{
+    
+    public AttributeGroupImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "attribute");
+    private static final javax.xml.namespace.QName ATTRIBUTEGROUP$2 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "attributeGroup");
+    private static final javax.xml.namespace.QName ANYATTRIBUTE$4 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "anyAttribute");
+    private static final javax.xml.namespace.QName NAME$6 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName REF$8 = 
+        new javax.xml.namespace.QName("", "ref");
+    
+    
+    /**
+     * Gets array of all "attribute" elements
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Attribute[] getAttributeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ATTRIBUTE$0, targetList);
+            org.apache.xmlbeans.impl.xb.xsdschema.Attribute[] result = new org.apache.xmlbeans.impl.xb.xsdschema.Attribute[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "attribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Attribute getAttributeArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Attribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Attribute)get_store().find_element_user(ATTRIBUTE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "attribute" element
+     */
+    public int sizeOfAttributeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ATTRIBUTE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "attribute" element
+     */
+    public void setAttributeArray(org.apache.xmlbeans.impl.xb.xsdschema.Attribute[] attributeArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(attributeArray, ATTRIBUTE$0);
+        }
+    }
+    
+    /**
+     * Sets ith "attribute" element
+     */
+    public void setAttributeArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.Attribute attribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Attribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Attribute)get_store().find_element_user(ATTRIBUTE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(attribute);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "attribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Attribute insertNewAttribute(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Attribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Attribute)get_store().insert_element_user(ATTRIBUTE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "attribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Attribute addNewAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Attribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Attribute)get_store().add_element_user(ATTRIBUTE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "attribute" element
+     */
+    public void removeAttribute(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ATTRIBUTE$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "attributeGroup" elements
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[] getAttributeGroupArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ATTRIBUTEGROUP$2, targetList);
+            org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[] result = new org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "attributeGroup" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef getAttributeGroupArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef)get_store().find_element_user(ATTRIBUTEGROUP$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "attributeGroup" element
+     */
+    public int sizeOfAttributeGroupArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ATTRIBUTEGROUP$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "attributeGroup" element
+     */
+    public void setAttributeGroupArray(org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef[] attributeGroupArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(attributeGroupArray, ATTRIBUTEGROUP$2);
+        }
+    }
+    
+    /**
+     * Sets ith "attributeGroup" element
+     */
+    public void setAttributeGroupArray(int i, org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef attributeGroup)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef)get_store().find_element_user(ATTRIBUTEGROUP$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(attributeGroup);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "attributeGroup" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef insertNewAttributeGroup(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef)get_store().insert_element_user(ATTRIBUTEGROUP$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "attributeGroup" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef addNewAttributeGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.AttributeGroupRef)get_store().add_element_user(ATTRIBUTEGROUP$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "attributeGroup" element
+     */
+    public void removeAttributeGroup(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ATTRIBUTEGROUP$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "anyAttribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Wildcard getAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().find_element_user(ANYATTRIBUTE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "anyAttribute" element
+     */
+    public boolean isSetAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ANYATTRIBUTE$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "anyAttribute" element
+     */
+    public void setAnyAttribute(org.apache.xmlbeans.impl.xb.xsdschema.Wildcard anyAttribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().find_element_user(ANYATTRIBUTE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().add_element_user(ANYATTRIBUTE$4);
+            }
+            target.set(anyAttribute);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "anyAttribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Wildcard addNewAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Wildcard target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Wildcard)get_store().add_element_user(ANYATTRIBUTE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "anyAttribute" element
+     */
+    public void unsetAnyAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ANYATTRIBUTE$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    public org.apache.xmlbeans.XmlNCName xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNCName target = null;
+            target = (org.apache.xmlbeans.XmlNCName)get_store().find_attribute_user(NAME$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" attribute
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAME$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$6);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    public void xsetName(org.apache.xmlbeans.XmlNCName name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNCName target = null;
+            target = (org.apache.xmlbeans.XmlNCName)get_store().find_attribute_user(NAME$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNCName)get_store().add_attribute_user(NAME$6);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAME$6);
+        }
+    }
+    
+    /**
+     * Gets the "ref" attribute
+     */
+    public javax.xml.namespace.QName getRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(REF$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getQNameValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ref" attribute
+     */
+    public org.apache.xmlbeans.XmlQName xgetRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_attribute_user(REF$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ref" attribute
+     */
+    public boolean isSetRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(REF$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "ref" attribute
+     */
+    public void setRef(javax.xml.namespace.QName ref)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(REF$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(REF$8);
+            }
+            target.setQNameValue(ref);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ref" attribute
+     */
+    public void xsetRef(org.apache.xmlbeans.XmlQName ref)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_attribute_user(REF$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlQName)get_store().add_attribute_user(REF$8);
+            }
+            target.set(ref);
+        }
+    }
+    
+    /**
+     * Unsets the "ref" attribute
+     */
+    public void unsetRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(REF$8);
+        }
+    }
+}
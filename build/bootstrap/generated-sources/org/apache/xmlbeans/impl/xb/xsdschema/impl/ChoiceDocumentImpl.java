@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: choice
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.ChoiceDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one choice(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class ChoiceDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.ChoiceDocument
+{
+    
+    public ChoiceDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHOICE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "choice");
+    
+    
+    /**
+     * Gets the "choice" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup getChoice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup)get_store().find_element_user(CHOICE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "choice" element
+     */
+    public void setChoice(org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup choice)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup)get_store().find_element_user(CHOICE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup)get_store().add_element_user(CHOICE$0);
+            }
+            target.set(choice);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "choice" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup addNewChoice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup)get_store().add_element_user(CHOICE$0);
+            return target;
+        }
+    }
+}
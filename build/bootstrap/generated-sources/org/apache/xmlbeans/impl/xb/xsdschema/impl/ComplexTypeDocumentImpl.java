@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: complexType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.ComplexTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one complexType(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class ComplexTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.ComplexTypeDocument
+{
+    
+    public ComplexTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMPLEXTYPE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "complexType");
+    
+    
+    /**
+     * Gets the "complexType" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType getComplexType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType)get_store().find_element_user(COMPLEXTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "complexType" element
+     */
+    public void setComplexType(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType complexType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType)get_store().find_element_user(COMPLEXTYPE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType)get_store().add_element_user(COMPLEXTYPE$0);
+            }
+            target.set(complexType);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "complexType" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType addNewComplexType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelComplexType)get_store().add_element_user(COMPLEXTYPE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: element
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.ElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one element(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class ElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.ElementDocument
+{
+    
+    public ElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMENT$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "element");
+    
+    
+    /**
+     * Gets the "element" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement getElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement)get_store().find_element_user(ELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "element" element
+     */
+    public void setElement(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement element)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement)get_store().find_element_user(ELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement)get_store().add_element_user(ELEMENT$0);
+            }
+            target.set(element);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "element" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement addNewElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelElement)get_store().add_element_user(ELEMENT$0);
+            return target;
+        }
+    }
+}
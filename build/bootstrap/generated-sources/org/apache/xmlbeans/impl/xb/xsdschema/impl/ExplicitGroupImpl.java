@@ -0,0 +1,23 @@
+/*
+ * XML Type:  explicitGroup
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML explicitGroup(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class ExplicitGroupImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.GroupImpl implements org.apache.xmlbeans.impl.xb.xsdschema.ExplicitGroup
+{
+    
+    public ExplicitGroupImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: fractionDigits
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.FractionDigitsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one fractionDigits(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class FractionDigitsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.FractionDigitsDocument
+{
+    
+    public FractionDigitsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FRACTIONDIGITS$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "fractionDigits");
+    
+    
+    /**
+     * Gets the "fractionDigits" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet getFractionDigits()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(FRACTIONDIGITS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "fractionDigits" element
+     */
+    public void setFractionDigits(org.apache.xmlbeans.impl.xb.xsdschema.NumFacet fractionDigits)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(FRACTIONDIGITS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(FRACTIONDIGITS$0);
+            }
+            target.set(fractionDigits);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "fractionDigits" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet addNewFractionDigits()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(FRACTIONDIGITS$0);
+            return target;
+        }
+    }
+}
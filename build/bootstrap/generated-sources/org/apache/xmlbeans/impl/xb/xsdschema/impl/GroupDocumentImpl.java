@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: group
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.GroupDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one group(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class GroupDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.GroupDocument
+{
+    
+    public GroupDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GROUP$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "group");
+    
+    
+    /**
+     * Gets the "group" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup getGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup)get_store().find_element_user(GROUP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "group" element
+     */
+    public void setGroup(org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup group)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup)get_store().find_element_user(GROUP$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup)get_store().add_element_user(GROUP$0);
+            }
+            target.set(group);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "group" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup addNewGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NamedGroup)get_store().add_element_user(GROUP$0);
+            return target;
+        }
+    }
+}
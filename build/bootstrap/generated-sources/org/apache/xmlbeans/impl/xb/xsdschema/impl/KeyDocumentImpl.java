@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: key
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.KeyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one key(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class KeyDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.KeyDocument
+{
+    
+    public KeyDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KEY$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "key");
+    
+    
+    /**
+     * Gets the "key" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Keybase getKey()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().find_element_user(KEY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "key" element
+     */
+    public void setKey(org.apache.xmlbeans.impl.xb.xsdschema.Keybase key)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().find_element_user(KEY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().add_element_user(KEY$0);
+            }
+            target.set(key);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "key" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Keybase addNewKey()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().add_element_user(KEY$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: length
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.LengthDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one length(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class LengthDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.LengthDocument
+{
+    
+    public LengthDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LENGTH$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "length");
+    
+    
+    /**
+     * Gets the "length" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet getLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(LENGTH$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "length" element
+     */
+    public void setLength(org.apache.xmlbeans.impl.xb.xsdschema.NumFacet length)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(LENGTH$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(LENGTH$0);
+            }
+            target.set(length);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "length" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet addNewLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(LENGTH$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * XML Type:  localComplexType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.LocalComplexType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML localComplexType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class LocalComplexTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.ComplexTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.LocalComplexType
+{
+    
+    public LocalComplexTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
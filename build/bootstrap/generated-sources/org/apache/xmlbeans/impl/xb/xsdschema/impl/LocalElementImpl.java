@@ -0,0 +1,23 @@
+/*
+ * XML Type:  localElement
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.LocalElement
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML localElement(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class LocalElementImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.ElementImpl implements org.apache.xmlbeans.impl.xb.xsdschema.LocalElement
+{
+    
+    public LocalElementImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
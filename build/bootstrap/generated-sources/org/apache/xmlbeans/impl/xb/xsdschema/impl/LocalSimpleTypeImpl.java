@@ -0,0 +1,23 @@
+/*
+ * XML Type:  localSimpleType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.LocalSimpleType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML localSimpleType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class LocalSimpleTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.SimpleTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.LocalSimpleType
+{
+    
+    public LocalSimpleTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
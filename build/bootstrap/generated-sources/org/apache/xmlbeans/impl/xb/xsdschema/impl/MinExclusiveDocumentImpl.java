@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: minExclusive
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.MinExclusiveDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one minExclusive(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class MinExclusiveDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.MinExclusiveDocument
+{
+    
+    public MinExclusiveDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINEXCLUSIVE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "minExclusive");
+    
+    
+    /**
+     * Gets the "minExclusive" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Facet getMinExclusive()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Facet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().find_element_user(MINEXCLUSIVE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "minExclusive" element
+     */
+    public void setMinExclusive(org.apache.xmlbeans.impl.xb.xsdschema.Facet minExclusive)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Facet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().find_element_user(MINEXCLUSIVE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().add_element_user(MINEXCLUSIVE$0);
+            }
+            target.set(minExclusive);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "minExclusive" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Facet addNewMinExclusive()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Facet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().add_element_user(MINEXCLUSIVE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: minLength
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.MinLengthDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one minLength(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class MinLengthDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.MinLengthDocument
+{
+    
+    public MinLengthDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINLENGTH$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "minLength");
+    
+    
+    /**
+     * Gets the "minLength" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet getMinLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(MINLENGTH$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "minLength" element
+     */
+    public void setMinLength(org.apache.xmlbeans.impl.xb.xsdschema.NumFacet minLength)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().find_element_user(MINLENGTH$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(MINLENGTH$0);
+            }
+            target.set(minLength);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "minLength" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.NumFacet addNewMinLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.NumFacet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.NumFacet)get_store().add_element_user(MINLENGTH$0);
+            return target;
+        }
+    }
+}
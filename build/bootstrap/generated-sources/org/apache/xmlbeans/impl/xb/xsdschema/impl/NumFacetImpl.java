@@ -0,0 +1,23 @@
+/*
+ * XML Type:  numFacet
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.NumFacet
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML numFacet(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class NumFacetImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.FacetImpl implements org.apache.xmlbeans.impl.xb.xsdschema.NumFacet
+{
+    
+    public NumFacetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,23 @@
+/*
+ * XML Type:  openAttrs
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.OpenAttrs
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML openAttrs(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class OpenAttrsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.OpenAttrs
+{
+    
+    public OpenAttrsImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,23 @@
+/*
+ * XML Type:  simpleRestrictionType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.SimpleRestrictionType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML simpleRestrictionType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class SimpleRestrictionTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.RestrictionTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.SimpleRestrictionType
+{
+    
+    public SimpleRestrictionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
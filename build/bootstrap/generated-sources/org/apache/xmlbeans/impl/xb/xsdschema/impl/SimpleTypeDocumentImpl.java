@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: simpleType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.SimpleTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one simpleType(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class SimpleTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.SimpleTypeDocument
+{
+    
+    public SimpleTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLETYPE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "simpleType");
+    
+    
+    /**
+     * Gets the "simpleType" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType getSimpleType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType)get_store().find_element_user(SIMPLETYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "simpleType" element
+     */
+    public void setSimpleType(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType simpleType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType)get_store().find_element_user(SIMPLETYPE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType)get_store().add_element_user(SIMPLETYPE$0);
+            }
+            target.set(simpleType);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "simpleType" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType addNewSimpleType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelSimpleType)get_store().add_element_user(SIMPLETYPE$0);
+            return target;
+        }
+    }
+}
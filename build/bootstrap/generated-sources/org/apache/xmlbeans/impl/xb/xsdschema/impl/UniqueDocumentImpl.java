@@ -0,0 +1,76 @@
+/*
+ * An XML document type.
+ * Localname: unique
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.UniqueDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one unique(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class UniqueDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.UniqueDocument
+{
+    
+    public UniqueDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIQUE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "unique");
+    
+    
+    /**
+     * Gets the "unique" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Keybase getUnique()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().find_element_user(UNIQUE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "unique" element
+     */
+    public void setUnique(org.apache.xmlbeans.impl.xb.xsdschema.Keybase unique)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().find_element_user(UNIQUE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().add_element_user(UNIQUE$0);
+            }
+            target.set(unique);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "unique" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Keybase addNewUnique()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Keybase target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Keybase)get_store().add_element_user(UNIQUE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * An XML document type.
+ * Localname: config
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig;
+
+
+/**
+ * A document containing one config(@http://xml.apache.org/xmlbeans/2004/02/xbean/config) element.
+ *
+ * This is a complex type.
+ */
+public interface ConfigDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ConfigDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("config4185doctype");
+    
+    /**
+     * Gets the "config" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config getConfig();
+    
+    /**
+     * Sets the "config" element
+     */
+    void setConfig(org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config config);
+    
+    /**
+     * Appends and returns a new empty "config" element
+     */
+    org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config addNewConfig();
+    
+    /**
+     * An XML config(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+     *
+     * This is a complex type.
+     */
+    public interface Config extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Config.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCONFIG").resolveHandle("configf467elemtype");
+        
+        /**
+         * Gets array of all "namespace" elements
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[] getNamespaceArray();
+        
+        /**
+         * Gets ith "namespace" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig getNamespaceArray(int i);
+        
+        /**
+         * Returns number of "namespace" element
+         */
+        int sizeOfNamespaceArray();
+        
+        /**
+         * Sets array of all "namespace" element
+         */
+        void setNamespaceArray(org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[] namespaceArray);
+        
+        /**
+         * Sets ith "namespace" element
+         */
+        void setNamespaceArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig namespace);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "namespace" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig insertNewNamespace(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "namespace" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig addNewNamespace();
+        
+        /**
+         * Removes the ith "namespace" element
+         */
+        void removeNamespace(int i);
+        
+        /**
+         * Gets array of all "qname" elements
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[] getQnameArray();
+        
+        /**
+         * Gets ith "qname" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig getQnameArray(int i);
+        
+        /**
+         * Returns number of "qname" element
+         */
+        int sizeOfQnameArray();
+        
+        /**
+         * Sets array of all "qname" element
+         */
+        void setQnameArray(org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[] qnameArray);
+        
+        /**
+         * Sets ith "qname" element
+         */
+        void setQnameArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig qname);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "qname" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig insertNewQname(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "qname" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig addNewQname();
+        
+        /**
+         * Removes the ith "qname" element
+         */
+        void removeQname(int i);
+        
+        /**
+         * Gets array of all "extension" elements
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[] getExtensionArray();
+        
+        /**
+         * Gets ith "extension" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig getExtensionArray(int i);
+        
+        /**
+         * Returns number of "extension" element
+         */
+        int sizeOfExtensionArray();
+        
+        /**
+         * Sets array of all "extension" element
+         */
+        void setExtensionArray(org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[] extensionArray);
+        
+        /**
+         * Sets ith "extension" element
+         */
+        void setExtensionArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig extension);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "extension" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig insertNewExtension(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "extension" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig addNewExtension();
+        
+        /**
+         * Removes the ith "extension" element
+         */
+        void removeExtension(int i);
+        
+        /**
+         * Gets array of all "usertype" elements
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[] getUsertypeArray();
+        
+        /**
+         * Gets ith "usertype" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig getUsertypeArray(int i);
+        
+        /**
+         * Returns number of "usertype" element
+         */
+        int sizeOfUsertypeArray();
+        
+        /**
+         * Sets array of all "usertype" element
+         */
+        void setUsertypeArray(org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[] usertypeArray);
+        
+        /**
+         * Sets ith "usertype" element
+         */
+        void setUsertypeArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig usertype);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "usertype" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig insertNewUsertype(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "usertype" element
+         */
+        org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig addNewUsertype();
+        
+        /**
+         * Removes the ith "usertype" element
+         */
+        void removeUsertype(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config newInstance() {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument newInstance() {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * An XML document type.
+ * Localname: config
+ * Namespace: http://xml.apache.org/xmlbeans/2004/02/xbean/config
+ * Java type: org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xmlconfig.impl;
+/**
+ * A document containing one config(@http://xml.apache.org/xmlbeans/2004/02/xbean/config) element.
+ *
+ * This is a complex type.
+ */
+public class ConfigDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConfigDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONFIG$0 = 
+        new javax.xml.namespace.QName("http://xml.apache.org/xmlbeans/2004/02/xbean/config", "config");
+    
+    
+    /**
+     * Gets the "config" element
+     */
+    public org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config getConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config target = null;
+            target = (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config)get_store().find_element_user(CONFIG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "config" element
+     */
+    public void setConfig(org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config config)
+    {
+        generatedSetterHelperImpl(config, CONFIG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "config" element
+     */
+    public org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config addNewConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config target = null;
+            target = (org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config)get_store().add_element_user(CONFIG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML config(@http://xml.apache.org/xmlbeans/2004/02/xbean/config).
+     *
+     * This is a complex type.
+     */
+    public static class ConfigImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xmlconfig.ConfigDocument.Config
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ConfigImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NAMESPACE$0 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/xmlbeans/2004/02/xbean/config", "namespace");
+        private static final javax.xml.namespace.QName QNAME$2 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/xmlbeans/2004/02/xbean/config", "qname");
+        private static final javax.xml.namespace.QName EXTENSION$4 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/xmlbeans/2004/02/xbean/config", "extension");
+        private static final javax.xml.namespace.QName USERTYPE$6 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/xmlbeans/2004/02/xbean/config", "usertype");
+        
+        
+        /**
+         * Gets array of all "namespace" elements
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[] getNamespaceArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(NAMESPACE$0, targetList);
+                org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[] result = new org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "namespace" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig getNamespaceArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig)get_store().find_element_user(NAMESPACE$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "namespace" element
+         */
+        public int sizeOfNamespaceArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(NAMESPACE$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "namespace" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setNamespaceArray(org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig[] namespaceArray)
+        {
+            check_orphaned();
+            arraySetterHelper(namespaceArray, NAMESPACE$0);
+        }
+        
+        /**
+         * Sets ith "namespace" element
+         */
+        public void setNamespaceArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig namespace)
+        {
+            generatedSetterHelperImpl(namespace, NAMESPACE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "namespace" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig insertNewNamespace(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig)get_store().insert_element_user(NAMESPACE$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "namespace" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig addNewNamespace()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Nsconfig)get_store().add_element_user(NAMESPACE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "namespace" element
+         */
+        public void removeNamespace(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(NAMESPACE$0, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "qname" elements
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[] getQnameArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(QNAME$2, targetList);
+                org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[] result = new org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "qname" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig getQnameArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig)get_store().find_element_user(QNAME$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "qname" element
+         */
+        public int sizeOfQnameArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(QNAME$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "qname" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setQnameArray(org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig[] qnameArray)
+        {
+            check_orphaned();
+            arraySetterHelper(qnameArray, QNAME$2);
+        }
+        
+        /**
+         * Sets ith "qname" element
+         */
+        public void setQnameArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig qname)
+        {
+            generatedSetterHelperImpl(qname, QNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "qname" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig insertNewQname(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig)get_store().insert_element_user(QNAME$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "qname" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig addNewQname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Qnameconfig)get_store().add_element_user(QNAME$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "qname" element
+         */
+        public void removeQname(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(QNAME$2, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "extension" elements
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[] getExtensionArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(EXTENSION$4, targetList);
+                org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[] result = new org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "extension" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig getExtensionArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig)get_store().find_element_user(EXTENSION$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "extension" element
+         */
+        public int sizeOfExtensionArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EXTENSION$4);
+            }
+        }
+        
+        /**
+         * Sets array of all "extension" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setExtensionArray(org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig[] extensionArray)
+        {
+            check_orphaned();
+            arraySetterHelper(extensionArray, EXTENSION$4);
+        }
+        
+        /**
+         * Sets ith "extension" element
+         */
+        public void setExtensionArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig extension)
+        {
+            generatedSetterHelperImpl(extension, EXTENSION$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "extension" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig insertNewExtension(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig)get_store().insert_element_user(EXTENSION$4, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "extension" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig addNewExtension()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Extensionconfig)get_store().add_element_user(EXTENSION$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "extension" element
+         */
+        public void removeExtension(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EXTENSION$4, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "usertype" elements
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[] getUsertypeArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(USERTYPE$6, targetList);
+                org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[] result = new org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "usertype" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig getUsertypeArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig)get_store().find_element_user(USERTYPE$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "usertype" element
+         */
+        public int sizeOfUsertypeArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(USERTYPE$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "usertype" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setUsertypeArray(org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig[] usertypeArray)
+        {
+            check_orphaned();
+            arraySetterHelper(usertypeArray, USERTYPE$6);
+        }
+        
+        /**
+         * Sets ith "usertype" element
+         */
+        public void setUsertypeArray(int i, org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig usertype)
+        {
+            generatedSetterHelperImpl(usertype, USERTYPE$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "usertype" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig insertNewUsertype(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig)get_store().insert_element_user(USERTYPE$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "usertype" element
+         */
+        public org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig addNewUsertype()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig target = null;
+                target = (org.apache.xmlbeans.impl.xb.xmlconfig.Usertypeconfig)get_store().add_element_user(USERTYPE$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "usertype" element
+         */
+        public void removeUsertype(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(USERTYPE$6, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: attribute
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.AttributeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one attribute(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class AttributeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.AttributeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttributeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "attribute");
+    
+    
+    /**
+     * Gets the "attribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute getAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute)get_store().find_element_user(ATTRIBUTE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "attribute" element
+     */
+    public void setAttribute(org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute attribute)
+    {
+        generatedSetterHelperImpl(attribute, ATTRIBUTE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "attribute" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute addNewAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.TopLevelAttribute)get_store().add_element_user(ATTRIBUTE$0);
+            return target;
+        }
+    }
+}
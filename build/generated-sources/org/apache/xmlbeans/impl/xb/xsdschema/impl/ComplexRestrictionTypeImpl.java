@@ -0,0 +1,24 @@
+/*
+ * XML Type:  complexRestrictionType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.ComplexRestrictionType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML complexRestrictionType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class ComplexRestrictionTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.RestrictionTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.ComplexRestrictionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ComplexRestrictionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
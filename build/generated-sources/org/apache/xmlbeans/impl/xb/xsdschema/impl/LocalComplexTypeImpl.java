@@ -0,0 +1,24 @@
+/*
+ * XML Type:  localComplexType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.LocalComplexType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML localComplexType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class LocalComplexTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.ComplexTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.LocalComplexType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalComplexTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
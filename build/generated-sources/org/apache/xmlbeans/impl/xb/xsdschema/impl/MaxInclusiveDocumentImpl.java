@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: maxInclusive
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.MaxInclusiveDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * A document containing one maxInclusive(@http://www.w3.org/2001/XMLSchema) element.
+ *
+ * This is a complex type.
+ */
+public class MaxInclusiveDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xmlbeans.impl.xb.xsdschema.MaxInclusiveDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxInclusiveDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MAXINCLUSIVE$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "maxInclusive");
+    
+    
+    /**
+     * Gets the "maxInclusive" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Facet getMaxInclusive()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Facet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().find_element_user(MAXINCLUSIVE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "maxInclusive" element
+     */
+    public void setMaxInclusive(org.apache.xmlbeans.impl.xb.xsdschema.Facet maxInclusive)
+    {
+        generatedSetterHelperImpl(maxInclusive, MAXINCLUSIVE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "maxInclusive" element
+     */
+    public org.apache.xmlbeans.impl.xb.xsdschema.Facet addNewMaxInclusive()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.impl.xb.xsdschema.Facet target = null;
+            target = (org.apache.xmlbeans.impl.xb.xsdschema.Facet)get_store().add_element_user(MAXINCLUSIVE$0);
+            return target;
+        }
+    }
+}
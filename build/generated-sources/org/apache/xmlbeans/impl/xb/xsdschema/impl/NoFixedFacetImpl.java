@@ -0,0 +1,24 @@
+/*
+ * XML Type:  noFixedFacet
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.NoFixedFacet
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML noFixedFacet(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class NoFixedFacetImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.FacetImpl implements org.apache.xmlbeans.impl.xb.xsdschema.NoFixedFacet
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NoFixedFacetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
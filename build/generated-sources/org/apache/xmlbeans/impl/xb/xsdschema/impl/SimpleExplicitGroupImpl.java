@@ -0,0 +1,24 @@
+/*
+ * XML Type:  simpleExplicitGroup
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.SimpleExplicitGroup
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML simpleExplicitGroup(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class SimpleExplicitGroupImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.ExplicitGroupImpl implements org.apache.xmlbeans.impl.xb.xsdschema.SimpleExplicitGroup
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleExplicitGroupImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
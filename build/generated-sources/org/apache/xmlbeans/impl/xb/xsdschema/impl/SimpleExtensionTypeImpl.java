@@ -0,0 +1,24 @@
+/*
+ * XML Type:  simpleExtensionType
+ * Namespace: http://www.w3.org/2001/XMLSchema
+ * Java type: org.apache.xmlbeans.impl.xb.xsdschema.SimpleExtensionType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xmlbeans.impl.xb.xsdschema.impl;
+/**
+ * An XML simpleExtensionType(@http://www.w3.org/2001/XMLSchema).
+ *
+ * This is a complex type.
+ */
+public class SimpleExtensionTypeImpl extends org.apache.xmlbeans.impl.xb.xsdschema.impl.ExtensionTypeImpl implements org.apache.xmlbeans.impl.xb.xsdschema.SimpleExtensionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleExtensionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,126 @@
+/*
+ * XML Type:  emptyT
+ * Namespace: http://xbean/dom/ComplexTypeTest
+ * Java type: xbean.dom.complexTypeTest.EmptyT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.complexTypeTest;
+
+
+/**
+ * An XML emptyT(@http://xbean/dom/ComplexTypeTest).
+ *
+ * This is a complex type.
+ */
+public interface EmptyT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EmptyT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sDOM").resolveHandle("emptyt7486type");
+    
+    /**
+     * Gets the "emptyAttr" attribute
+     */
+    java.lang.String getEmptyAttr();
+    
+    /**
+     * Gets (as xml) the "emptyAttr" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetEmptyAttr();
+    
+    /**
+     * True if has "emptyAttr" attribute
+     */
+    boolean isSetEmptyAttr();
+    
+    /**
+     * Sets the "emptyAttr" attribute
+     */
+    void setEmptyAttr(java.lang.String emptyAttr);
+    
+    /**
+     * Sets (as xml) the "emptyAttr" attribute
+     */
+    void xsetEmptyAttr(org.apache.xmlbeans.XmlString emptyAttr);
+    
+    /**
+     * Unsets the "emptyAttr" attribute
+     */
+    void unsetEmptyAttr();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.dom.complexTypeTest.EmptyT newInstance() {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.dom.complexTypeTest.EmptyT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.dom.complexTypeTest.EmptyT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.dom.complexTypeTest.EmptyT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.dom.complexTypeTest.EmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltType
+ * Namespace: http://xbean/dom/ComplexTypeTest
+ * Java type: xbean.dom.complexTypeTest.EltTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.complexTypeTest.impl;
+/**
+ * A document containing one EltType(@http://xbean/dom/ComplexTypeTest) element.
+ *
+ * This is a complex type.
+ */
+public class EltTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.complexTypeTest.EltTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/ComplexTypeTest", "EltType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 14943591:
+                if (name.equals(ELTTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltType" element
+     */
+    public xbean.dom.complexTypeTest.ElementT getEltType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.ElementT target = null;
+            target = (xbean.dom.complexTypeTest.ElementT)get_store().find_element_user(ELTTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltType" element
+     */
+    public void setEltType(xbean.dom.complexTypeTest.ElementT eltType)
+    {
+        generatedSetterHelperImpl(eltType, ELTTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltType" element
+     */
+    public xbean.dom.complexTypeTest.ElementT addNewEltType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.ElementT target = null;
+            target = (xbean.dom.complexTypeTest.ElementT)get_store().add_element_user(ELTTYPE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EmptyMixedType
+ * Namespace: http://xbean/dom/ComplexTypeTest
+ * Java type: xbean.dom.complexTypeTest.EmptyMixedTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.complexTypeTest.impl;
+/**
+ * A document containing one EmptyMixedType(@http://xbean/dom/ComplexTypeTest) element.
+ *
+ * This is a complex type.
+ */
+public class EmptyMixedTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.complexTypeTest.EmptyMixedTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmptyMixedTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPTYMIXEDTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/ComplexTypeTest", "EmptyMixedType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1820337960:
+                if (name.equals(EMPTYMIXEDTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EmptyMixedType" element
+     */
+    public xbean.dom.complexTypeTest.EmptyT getEmptyMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.EmptyT target = null;
+            target = (xbean.dom.complexTypeTest.EmptyT)get_store().find_element_user(EMPTYMIXEDTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EmptyMixedType" element
+     */
+    public void setEmptyMixedType(xbean.dom.complexTypeTest.EmptyT emptyMixedType)
+    {
+        generatedSetterHelperImpl(emptyMixedType, EMPTYMIXEDTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EmptyMixedType" element
+     */
+    public xbean.dom.complexTypeTest.EmptyT addNewEmptyMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.EmptyT target = null;
+            target = (xbean.dom.complexTypeTest.EmptyT)get_store().add_element_user(EMPTYMIXEDTYPE$0);
+            return target;
+        }
+    }
+}
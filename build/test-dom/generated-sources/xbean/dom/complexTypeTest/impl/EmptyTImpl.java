@@ -0,0 +1,118 @@
+/*
+ * XML Type:  emptyT
+ * Namespace: http://xbean/dom/ComplexTypeTest
+ * Java type: xbean.dom.complexTypeTest.EmptyT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.complexTypeTest.impl;
+/**
+ * An XML emptyT(@http://xbean/dom/ComplexTypeTest).
+ *
+ * This is a complex type.
+ */
+public class EmptyTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.complexTypeTest.EmptyT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmptyTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPTYATTR$0 = 
+        new javax.xml.namespace.QName("", "emptyAttr");
+    
+    
+    /**
+     * Gets the "emptyAttr" attribute
+     */
+    public java.lang.String getEmptyAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EMPTYATTR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "emptyAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetEmptyAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EMPTYATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "emptyAttr" attribute
+     */
+    public boolean isSetEmptyAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(EMPTYATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "emptyAttr" attribute
+     */
+    public void setEmptyAttr(java.lang.String emptyAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EMPTYATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EMPTYATTR$0);
+            }
+            target.setStringValue(emptyAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "emptyAttr" attribute
+     */
+    public void xsetEmptyAttr(org.apache.xmlbeans.XmlString emptyAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EMPTYATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EMPTYATTR$0);
+            }
+            target.set(emptyAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "emptyAttr" attribute
+     */
+    public void unsetEmptyAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(EMPTYATTR$0);
+        }
+    }
+}
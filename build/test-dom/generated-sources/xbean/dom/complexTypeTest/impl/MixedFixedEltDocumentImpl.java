@@ -0,0 +1,205 @@
+/*
+ * An XML document type.
+ * Localname: MixedFixedElt
+ * Namespace: http://xbean/dom/ComplexTypeTest
+ * Java type: xbean.dom.complexTypeTest.MixedFixedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.complexTypeTest.impl;
+/**
+ * A document containing one MixedFixedElt(@http://xbean/dom/ComplexTypeTest) element.
+ *
+ * This is a complex type.
+ */
+public class MixedFixedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.complexTypeTest.MixedFixedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedFixedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXEDFIXEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/ComplexTypeTest", "MixedFixedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -390956652:
+                if (name.equals(MIXEDFIXEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MixedFixedElt" element
+     */
+    public xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt getMixedFixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt target = null;
+            target = (xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt)get_store().find_element_user(MIXEDFIXEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MixedFixedElt" element
+     */
+    public void setMixedFixedElt(xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt mixedFixedElt)
+    {
+        generatedSetterHelperImpl(mixedFixedElt, MIXEDFIXEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MixedFixedElt" element
+     */
+    public xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt addNewMixedFixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt target = null;
+            target = (xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt)get_store().add_element_user(MIXEDFIXEDELT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML MixedFixedElt(@http://xbean/dom/ComplexTypeTest).
+     *
+     * This is a complex type.
+     */
+    public static class MixedFixedEltImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.complexTypeTest.MixedFixedEltDocument.MixedFixedElt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MixedFixedEltImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName A$0 = 
+            new javax.xml.namespace.QName("", "a");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 97:
+                    if (name.equals(A$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "a" element
+         */
+        public java.lang.String getA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "a" element
+         */
+        public org.apache.xmlbeans.XmlString xgetA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "a" element
+         */
+        public boolean isSetA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(A$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "a" element
+         */
+        public void setA(java.lang.String a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$0);
+                }
+                target.setStringValue(a);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "a" element
+         */
+        public void xsetA(org.apache.xmlbeans.XmlString a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$0);
+                }
+                target.set(a);
+            }
+        }
+        
+        /**
+         * Unsets the "a" element
+         */
+        public void unsetA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(A$0, 0);
+            }
+        }
+    }
+}
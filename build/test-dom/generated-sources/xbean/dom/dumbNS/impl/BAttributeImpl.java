@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: b
+ * Namespace: http://xbean/dom/dumbNS
+ * Java type: xbean.dom.dumbNS.BAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.dumbNS.impl;
+/**
+ * A document containing one b(@http://xbean/dom/dumbNS) attribute.
+ *
+ * This is a complex type.
+ */
+public class BAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.dumbNS.BAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName B$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/dumbNS", "b");
+    
+    
+    /**
+     * Gets the "b" attribute
+     */
+    public java.math.BigInteger getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "b" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "b" attribute
+     */
+    public boolean isSetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(B$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "b" attribute
+     */
+    public void setB(java.math.BigInteger b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B$0);
+            }
+            target.setBigIntegerValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "b" attribute
+     */
+    public void xsetB(org.apache.xmlbeans.XmlInteger b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(B$0);
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Unsets the "b" attribute
+     */
+    public void unsetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(B$0);
+        }
+    }
+}
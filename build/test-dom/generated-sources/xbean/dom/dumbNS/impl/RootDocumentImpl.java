@@ -0,0 +1,191 @@
+/*
+ * An XML document type.
+ * Localname: root
+ * Namespace: http://xbean/dom/dumbNS
+ * Java type: xbean.dom.dumbNS.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.dumbNS.impl;
+/**
+ * A document containing one root(@http://xbean/dom/dumbNS) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.dumbNS.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/dumbNS", "root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3506402:
+                if (name.equals(ROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "root" element
+     */
+    public xbean.dom.dumbNS.RootDocument.Root getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.dumbNS.RootDocument.Root target = null;
+            target = (xbean.dom.dumbNS.RootDocument.Root)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "root" element
+     */
+    public void setRoot(xbean.dom.dumbNS.RootDocument.Root root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "root" element
+     */
+    public xbean.dom.dumbNS.RootDocument.Root addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.dumbNS.RootDocument.Root target = null;
+            target = (xbean.dom.dumbNS.RootDocument.Root)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML root(@http://xbean/dom/dumbNS).
+     *
+     * This is a complex type.
+     */
+    public static class RootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.dumbNS.RootDocument.Root
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName B$0 = 
+            new javax.xml.namespace.QName("http://xbean/dom/dumbNS", "b");
+        
+        
+        /**
+         * Gets the "b" attribute
+         */
+        public java.math.BigInteger getB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigIntegerValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "b" attribute
+         */
+        public org.apache.xmlbeans.XmlInteger xgetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "b" attribute
+         */
+        public boolean isSetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(B$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "b" attribute
+         */
+        public void setB(java.math.BigInteger b)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B$0);
+                }
+                target.setBigIntegerValue(b);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "b" attribute
+         */
+        public void xsetB(org.apache.xmlbeans.XmlInteger b)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(B$0);
+                }
+                target.set(b);
+            }
+        }
+        
+        /**
+         * Unsets the "b" attribute
+         */
+        public void unsetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(B$0);
+            }
+        }
+    }
+}
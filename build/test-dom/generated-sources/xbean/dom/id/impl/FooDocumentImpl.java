@@ -0,0 +1,153 @@
+/*
+ * An XML document type.
+ * Localname: foo
+ * Namespace: http://xbean/dom/id
+ * Java type: xbean.dom.id.FooDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.id.impl;
+/**
+ * A document containing one foo(@http://xbean/dom/id) element.
+ *
+ * This is a complex type.
+ */
+public class FooDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.id.FooDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FooDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FOO$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/id", "foo");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 101574:
+                if (name.equals(FOO$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "foo" element
+     */
+    public xbean.dom.id.FooDocument.Foo getFoo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.id.FooDocument.Foo target = null;
+            target = (xbean.dom.id.FooDocument.Foo)get_store().find_element_user(FOO$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "foo" element
+     */
+    public void setFoo(xbean.dom.id.FooDocument.Foo foo)
+    {
+        generatedSetterHelperImpl(foo, FOO$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "foo" element
+     */
+    public xbean.dom.id.FooDocument.Foo addNewFoo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.id.FooDocument.Foo target = null;
+            target = (xbean.dom.id.FooDocument.Foo)get_store().add_element_user(FOO$0);
+            return target;
+        }
+    }
+    /**
+     * An XML foo(@http://xbean/dom/id).
+     *
+     * This is a complex type.
+     */
+    public static class FooImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.id.FooDocument.Foo
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public FooImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName PERSON$0 = 
+            new javax.xml.namespace.QName("http://xbean/dom/id", "person");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -991716523:
+                    if (name.equals(PERSON$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "person" element
+         */
+        public xbean.dom.id.PersonDocument.Person getPerson()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.dom.id.PersonDocument.Person target = null;
+                target = (xbean.dom.id.PersonDocument.Person)get_store().find_element_user(PERSON$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "person" element
+         */
+        public void setPerson(xbean.dom.id.PersonDocument.Person person)
+        {
+            generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "person" element
+         */
+        public xbean.dom.id.PersonDocument.Person addNewPerson()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.dom.id.PersonDocument.Person target = null;
+                target = (xbean.dom.id.PersonDocument.Person)get_store().add_element_user(PERSON$0);
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * An XML document type.
+ * Localname: person
+ * Namespace: http://xbean/dom/id
+ * Java type: xbean.dom.id.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.dom.id.impl;
+/**
+ * A document containing one person(@http://xbean/dom/id) element.
+ *
+ * This is a complex type.
+ */
+public class PersonDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.id.PersonDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("http://xbean/dom/id", "person");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -991716523:
+                if (name.equals(PERSON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "person" element
+     */
+    public xbean.dom.id.PersonDocument.Person getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.id.PersonDocument.Person target = null;
+            target = (xbean.dom.id.PersonDocument.Person)get_store().find_element_user(PERSON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "person" element
+     */
+    public void setPerson(xbean.dom.id.PersonDocument.Person person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "person" element
+     */
+    public xbean.dom.id.PersonDocument.Person addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.dom.id.PersonDocument.Person target = null;
+            target = (xbean.dom.id.PersonDocument.Person)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+    /**
+     * An XML person(@http://xbean/dom/id).
+     *
+     * This is a complex type.
+     */
+    public static class PersonImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.dom.id.PersonDocument.Person
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PersonImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FIRSTNAME$0 = 
+            new javax.xml.namespace.QName("http://xbean/dom/id", "firstname");
+        private static final javax.xml.namespace.QName ID$2 = 
+            new javax.xml.namespace.QName("", "id");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 133788987:
+                    if (name.equals(FIRSTNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "firstname" element
+         */
+        public java.lang.String getFirstname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "firstname" element
+         */
+        public org.apache.xmlbeans.XmlString xgetFirstname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "firstname" element
+         */
+        public void setFirstname(java.lang.String firstname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$0);
+                }
+                target.setStringValue(firstname);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "firstname" element
+         */
+        public void xsetFirstname(org.apache.xmlbeans.XmlString firstname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$0);
+                }
+                target.set(firstname);
+            }
+        }
+        
+        /**
+         * Gets the "id" attribute
+         */
+        public java.lang.String getId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "id" attribute
+         */
+        public org.apache.xmlbeans.XmlID xgetId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlID target = null;
+                target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "id" attribute
+         */
+        public void setId(java.lang.String id)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$2);
+                }
+                target.setStringValue(id);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "id" attribute
+         */
+        public void xsetId(org.apache.xmlbeans.XmlID id)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlID target = null;
+                target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID$2);
+                }
+                target.set(id);
+            }
+        }
+    }
+}
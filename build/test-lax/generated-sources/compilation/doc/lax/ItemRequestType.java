@@ -0,0 +1,131 @@
+/*
+ * XML Type:  ItemRequestType
+ * Namespace: urn:lax.Doc.Compilation
+ * Java type: compilation.doc.lax.ItemRequestType
+ *
+ * Automatically generated - do not modify.
+ */
+package compilation.doc.lax;
+
+
+/**
+ * An XML ItemRequestType(@urn:lax.Doc.Compilation).
+ *
+ * This is a complex type.
+ */
+public interface ItemRequestType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ItemRequestType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sLAX").resolveHandle("itemrequesttype6c66type");
+    
+    /**
+     * Gets the "foobaz" element
+     */
+    java.lang.String getFoobaz();
+    
+    /**
+     * Gets (as xml) the "foobaz" element
+     */
+    org.apache.xmlbeans.XmlString xgetFoobaz();
+    
+    /**
+     * Sets the "foobaz" element
+     */
+    void setFoobaz(java.lang.String foobaz);
+    
+    /**
+     * Sets (as xml) the "foobaz" element
+     */
+    void xsetFoobaz(org.apache.xmlbeans.XmlString foobaz);
+    
+    /**
+     * Gets the "baz" attribute
+     */
+    org.apache.xmlbeans.XmlAnySimpleType getBaz();
+    
+    /**
+     * Sets the "baz" attribute
+     */
+    void setBaz(org.apache.xmlbeans.XmlAnySimpleType baz);
+    
+    /**
+     * Appends and returns a new empty "baz" attribute
+     */
+    org.apache.xmlbeans.XmlAnySimpleType addNewBaz();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static compilation.doc.lax.ItemRequestType newInstance() {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static compilation.doc.lax.ItemRequestType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static compilation.doc.lax.ItemRequestType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static compilation.doc.lax.ItemRequestType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static compilation.doc.lax.ItemRequestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static compilation.doc.lax.ItemRequestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (compilation.doc.lax.ItemRequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
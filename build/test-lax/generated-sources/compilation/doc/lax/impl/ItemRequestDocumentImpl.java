@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ItemRequest
+ * Namespace: urn:lax.Doc.Compilation
+ * Java type: compilation.doc.lax.ItemRequestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package compilation.doc.lax.impl;
+/**
+ * A document containing one ItemRequest(@urn:lax.Doc.Compilation) element.
+ *
+ * This is a complex type.
+ */
+public class ItemRequestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements compilation.doc.lax.ItemRequestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemRequestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ITEMREQUEST$0 = 
+        new javax.xml.namespace.QName("urn:lax.Doc.Compilation", "ItemRequest");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2065323044:
+                if (name.equals(ITEMREQUEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ItemRequest" element
+     */
+    public compilation.doc.lax.ItemRequestType getItemRequest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            compilation.doc.lax.ItemRequestType target = null;
+            target = (compilation.doc.lax.ItemRequestType)get_store().find_element_user(ITEMREQUEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ItemRequest" element
+     */
+    public void setItemRequest(compilation.doc.lax.ItemRequestType itemRequest)
+    {
+        generatedSetterHelperImpl(itemRequest, ITEMREQUEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ItemRequest" element
+     */
+    public compilation.doc.lax.ItemRequestType addNewItemRequest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            compilation.doc.lax.ItemRequestType target = null;
+            target = (compilation.doc.lax.ItemRequestType)get_store().add_element_user(ITEMREQUEST$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * XML Type:  ItemRequestType
+ * Namespace: urn:lax.Doc.Compilation
+ * Java type: compilation.doc.lax.ItemRequestType
+ *
+ * Automatically generated - do not modify.
+ */
+package compilation.doc.lax.impl;
+/**
+ * An XML ItemRequestType(@urn:lax.Doc.Compilation).
+ *
+ * This is a complex type.
+ */
+public class ItemRequestTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements compilation.doc.lax.ItemRequestType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemRequestTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FOOBAZ$0 = 
+        new javax.xml.namespace.QName("urn:lax.Doc.Compilation", "foobaz");
+    private static final javax.xml.namespace.QName BAZ$2 = 
+        new javax.xml.namespace.QName("", "baz");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1268878955:
+                if (name.equals(FOOBAZ$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "foobaz" element
+     */
+    public java.lang.String getFoobaz()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOBAZ$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "foobaz" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFoobaz()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOBAZ$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "foobaz" element
+     */
+    public void setFoobaz(java.lang.String foobaz)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOBAZ$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FOOBAZ$0);
+            }
+            target.setStringValue(foobaz);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "foobaz" element
+     */
+    public void xsetFoobaz(org.apache.xmlbeans.XmlString foobaz)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOBAZ$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FOOBAZ$0);
+            }
+            target.set(foobaz);
+        }
+    }
+    
+    /**
+     * Gets the "baz" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getBaz()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(BAZ$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "baz" attribute
+     */
+    public void setBaz(org.apache.xmlbeans.XmlAnySimpleType baz)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(BAZ$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(BAZ$2);
+            }
+            target.set(baz);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "baz" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewBaz()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(BAZ$2);
+            return target;
+        }
+    }
+}
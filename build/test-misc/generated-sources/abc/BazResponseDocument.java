@@ -0,0 +1,229 @@
+/*
+ * An XML document type.
+ * Localname: BazResponse
+ * Namespace: http://abc
+ * Java type: abc.BazResponseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package abc;
+
+
+/**
+ * A document containing one BazResponse(@http://abc) element.
+ *
+ * This is a complex type.
+ */
+public interface BazResponseDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BazResponseDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("bazresponse622ddoctype");
+    
+    /**
+     * Gets the "BazResponse" element
+     */
+    abc.BazResponseDocument.BazResponse getBazResponse();
+    
+    /**
+     * Sets the "BazResponse" element
+     */
+    void setBazResponse(abc.BazResponseDocument.BazResponse bazResponse);
+    
+    /**
+     * Appends and returns a new empty "BazResponse" element
+     */
+    abc.BazResponseDocument.BazResponse addNewBazResponse();
+    
+    /**
+     * An XML BazResponse(@http://abc).
+     *
+     * This is a complex type.
+     */
+    public interface BazResponse extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BazResponse.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("bazresponsef965elemtype");
+        
+        /**
+         * Gets the "Status" element
+         */
+        java.lang.String getStatus();
+        
+        /**
+         * Gets (as xml) the "Status" element
+         */
+        org.apache.xmlbeans.XmlString xgetStatus();
+        
+        /**
+         * Sets the "Status" element
+         */
+        void setStatus(java.lang.String status);
+        
+        /**
+         * Sets (as xml) the "Status" element
+         */
+        void xsetStatus(org.apache.xmlbeans.XmlString status);
+        
+        /**
+         * Gets the "ErrorMsg" element
+         */
+        java.lang.String getErrorMsg();
+        
+        /**
+         * Gets (as xml) the "ErrorMsg" element
+         */
+        org.apache.xmlbeans.XmlString xgetErrorMsg();
+        
+        /**
+         * Tests for nil "ErrorMsg" element
+         */
+        boolean isNilErrorMsg();
+        
+        /**
+         * Sets the "ErrorMsg" element
+         */
+        void setErrorMsg(java.lang.String errorMsg);
+        
+        /**
+         * Sets (as xml) the "ErrorMsg" element
+         */
+        void xsetErrorMsg(org.apache.xmlbeans.XmlString errorMsg);
+        
+        /**
+         * Nils the "ErrorMsg" element
+         */
+        void setNilErrorMsg();
+        
+        /**
+         * Gets the "SQLStatus" element
+         */
+        int getSQLStatus();
+        
+        /**
+         * Gets (as xml) the "SQLStatus" element
+         */
+        org.apache.xmlbeans.XmlInt xgetSQLStatus();
+        
+        /**
+         * Sets the "SQLStatus" element
+         */
+        void setSQLStatus(int sqlStatus);
+        
+        /**
+         * Sets (as xml) the "SQLStatus" element
+         */
+        void xsetSQLStatus(org.apache.xmlbeans.XmlInt sqlStatus);
+        
+        /**
+         * Gets the "ErrorCode" element
+         */
+        int getErrorCode();
+        
+        /**
+         * Gets (as xml) the "ErrorCode" element
+         */
+        org.apache.xmlbeans.XmlInt xgetErrorCode();
+        
+        /**
+         * Sets the "ErrorCode" element
+         */
+        void setErrorCode(int errorCode);
+        
+        /**
+         * Sets (as xml) the "ErrorCode" element
+         */
+        void xsetErrorCode(org.apache.xmlbeans.XmlInt errorCode);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static abc.BazResponseDocument.BazResponse newInstance() {
+              return (abc.BazResponseDocument.BazResponse) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static abc.BazResponseDocument.BazResponse newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (abc.BazResponseDocument.BazResponse) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static abc.BazResponseDocument newInstance() {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static abc.BazResponseDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static abc.BazResponseDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static abc.BazResponseDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static abc.BazResponseDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static abc.BazResponseDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static abc.BazResponseDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static abc.BazResponseDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static abc.BazResponseDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static abc.BazResponseDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static abc.BazResponseDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static abc.BazResponseDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static abc.BazResponseDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static abc.BazResponseDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static abc.BazResponseDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static abc.BazResponseDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static abc.BazResponseDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static abc.BazResponseDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (abc.BazResponseDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * An XML document type.
+ * Localname: BazResponse
+ * Namespace: http://abc
+ * Java type: abc.BazResponseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package abc.impl;
+/**
+ * A document containing one BazResponse(@http://abc) element.
+ *
+ * This is a complex type.
+ */
+public class BazResponseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements abc.BazResponseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BazResponseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BAZRESPONSE$0 = 
+        new javax.xml.namespace.QName("http://abc", "BazResponse");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1963437732:
+                if (name.equals(BAZRESPONSE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "BazResponse" element
+     */
+    public abc.BazResponseDocument.BazResponse getBazResponse()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            abc.BazResponseDocument.BazResponse target = null;
+            target = (abc.BazResponseDocument.BazResponse)get_store().find_element_user(BAZRESPONSE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "BazResponse" element
+     */
+    public void setBazResponse(abc.BazResponseDocument.BazResponse bazResponse)
+    {
+        generatedSetterHelperImpl(bazResponse, BAZRESPONSE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "BazResponse" element
+     */
+    public abc.BazResponseDocument.BazResponse addNewBazResponse()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            abc.BazResponseDocument.BazResponse target = null;
+            target = (abc.BazResponseDocument.BazResponse)get_store().add_element_user(BAZRESPONSE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML BazResponse(@http://abc).
+     *
+     * This is a complex type.
+     */
+    public static class BazResponseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements abc.BazResponseDocument.BazResponse
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public BazResponseImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName STATUS$0 = 
+            new javax.xml.namespace.QName("http://abc", "Status");
+        private static final javax.xml.namespace.QName ERRORMSG$2 = 
+            new javax.xml.namespace.QName("http://abc", "ErrorMsg");
+        private static final javax.xml.namespace.QName SQLSTATUS$4 = 
+            new javax.xml.namespace.QName("http://abc", "SQLStatus");
+        private static final javax.xml.namespace.QName ERRORCODE$6 = 
+            new javax.xml.namespace.QName("http://abc", "ErrorCode");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(4);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1961963531:
+                    if (name.equals(ERRORCODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -1808614382:
+                    if (name.equals(STATUS$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 956007232:
+                    if (name.equals(SQLSTATUS$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 1460741241:
+                    if (name.equals(ERRORMSG$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "Status" element
+         */
+        public java.lang.String getStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATUS$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Status" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATUS$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Status" element
+         */
+        public void setStatus(java.lang.String status)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATUS$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATUS$0);
+                }
+                target.setStringValue(status);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Status" element
+         */
+        public void xsetStatus(org.apache.xmlbeans.XmlString status)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATUS$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATUS$0);
+                }
+                target.set(status);
+            }
+        }
+        
+        /**
+         * Gets the "ErrorMsg" element
+         */
+        public java.lang.String getErrorMsg()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORMSG$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ErrorMsg" element
+         */
+        public org.apache.xmlbeans.XmlString xgetErrorMsg()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ERRORMSG$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Tests for nil "ErrorMsg" element
+         */
+        public boolean isNilErrorMsg()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ERRORMSG$2, 0);
+                if (target == null) return false;
+                return target.isNil();
+            }
+        }
+        
+        /**
+         * Sets the "ErrorMsg" element
+         */
+        public void setErrorMsg(java.lang.String errorMsg)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORMSG$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ERRORMSG$2);
+                }
+                target.setStringValue(errorMsg);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ErrorMsg" element
+         */
+        public void xsetErrorMsg(org.apache.xmlbeans.XmlString errorMsg)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ERRORMSG$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ERRORMSG$2);
+                }
+                target.set(errorMsg);
+            }
+        }
+        
+        /**
+         * Nils the "ErrorMsg" element
+         */
+        public void setNilErrorMsg()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ERRORMSG$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ERRORMSG$2);
+                }
+                target.setNil();
+            }
+        }
+        
+        /**
+         * Gets the "SQLStatus" element
+         */
+        public int getSQLStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(SQLSTATUS$4, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SQLSTATUS$4, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SQLStatus" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetSQLStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(SQLSTATUS$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "SQLStatus" element
+         */
+        public void setSQLStatus(int sqlStatus)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SQLSTATUS$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SQLSTATUS$4);
+                }
+                target.setIntValue(sqlStatus);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SQLStatus" element
+         */
+        public void xsetSQLStatus(org.apache.xmlbeans.XmlInt sqlStatus)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(SQLSTATUS$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(SQLSTATUS$4);
+                }
+                target.set(sqlStatus);
+            }
+        }
+        
+        /**
+         * Gets the "ErrorCode" element
+         */
+        public int getErrorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(ERRORCODE$6, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORCODE$6, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ErrorCode" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetErrorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(ERRORCODE$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "ErrorCode" element
+         */
+        public void setErrorCode(int errorCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ERRORCODE$6);
+                }
+                target.setIntValue(errorCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ErrorCode" element
+         */
+        public void xsetErrorCode(org.apache.xmlbeans.XmlInt errorCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(ERRORCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(ERRORCODE$6);
+                }
+                target.set(errorCode);
+            }
+        }
+    }
+}
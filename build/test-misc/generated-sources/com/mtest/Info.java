@@ -0,0 +1,126 @@
+/*
+ * XML Type:  Info
+ * Namespace: http://www.mtest.com
+ * Java type: com.mtest.Info
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mtest;
+
+
+/**
+ * An XML Info(@http://www.mtest.com).
+ *
+ * This is a complex type.
+ */
+public interface Info extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Info.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("info6f12type");
+    
+    /**
+     * Gets the "desc" element
+     */
+    java.lang.String getDesc();
+    
+    /**
+     * Gets (as xml) the "desc" element
+     */
+    org.apache.xmlbeans.XmlString xgetDesc();
+    
+    /**
+     * True if has "desc" element
+     */
+    boolean isSetDesc();
+    
+    /**
+     * Sets the "desc" element
+     */
+    void setDesc(java.lang.String desc);
+    
+    /**
+     * Sets (as xml) the "desc" element
+     */
+    void xsetDesc(org.apache.xmlbeans.XmlString desc);
+    
+    /**
+     * Unsets the "desc" element
+     */
+    void unsetDesc();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.mtest.Info newInstance() {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.mtest.Info newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.mtest.Info parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.mtest.Info parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.mtest.Info parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.mtest.Info parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.mtest.Info parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.mtest.Info parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.mtest.Info parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.mtest.Info parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.mtest.Info parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.mtest.Info parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.mtest.Info parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.mtest.Info parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.mtest.Info parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.mtest.Info parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.mtest.Info parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.mtest.Info parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.mtest.Info) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
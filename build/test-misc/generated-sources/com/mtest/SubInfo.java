@@ -0,0 +1,126 @@
+/*
+ * XML Type:  SubInfo
+ * Namespace: http://www.mtest.com
+ * Java type: com.mtest.SubInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mtest;
+
+
+/**
+ * An XML SubInfo(@http://www.mtest.com).
+ *
+ * This is a complex type.
+ */
+public interface SubInfo extends com.mtest.Info
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SubInfo.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("subinfoc224type");
+    
+    /**
+     * Gets the "subdesc" element
+     */
+    java.lang.String getSubdesc();
+    
+    /**
+     * Gets (as xml) the "subdesc" element
+     */
+    org.apache.xmlbeans.XmlString xgetSubdesc();
+    
+    /**
+     * True if has "subdesc" element
+     */
+    boolean isSetSubdesc();
+    
+    /**
+     * Sets the "subdesc" element
+     */
+    void setSubdesc(java.lang.String subdesc);
+    
+    /**
+     * Sets (as xml) the "subdesc" element
+     */
+    void xsetSubdesc(org.apache.xmlbeans.XmlString subdesc);
+    
+    /**
+     * Unsets the "subdesc" element
+     */
+    void unsetSubdesc();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.mtest.SubInfo newInstance() {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.mtest.SubInfo newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.mtest.SubInfo parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.mtest.SubInfo parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.mtest.SubInfo parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.mtest.SubInfo parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.mtest.SubInfo parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.mtest.SubInfo parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.mtest.SubInfo parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.mtest.SubInfo parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.mtest.SubInfo parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.mtest.SubInfo parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.mtest.SubInfo parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.mtest.SubInfo parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.mtest.SubInfo parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.mtest.SubInfo parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.mtest.SubInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.mtest.SubInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.mtest.SubInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
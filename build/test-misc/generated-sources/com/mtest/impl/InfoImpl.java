@@ -0,0 +1,132 @@
+/*
+ * XML Type:  Info
+ * Namespace: http://www.mtest.com
+ * Java type: com.mtest.Info
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mtest.impl;
+/**
+ * An XML Info(@http://www.mtest.com).
+ *
+ * This is a complex type.
+ */
+public class InfoImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.mtest.Info
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InfoImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESC$0 = 
+        new javax.xml.namespace.QName("http://www.mtest.com", "desc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3079825:
+                if (name.equals(DESC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "desc" element
+     */
+    public java.lang.String getDesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "desc" element
+     */
+    public org.apache.xmlbeans.XmlString xgetDesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESC$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "desc" element
+     */
+    public boolean isSetDesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESC$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "desc" element
+     */
+    public void setDesc(java.lang.String desc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESC$0);
+            }
+            target.setStringValue(desc);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "desc" element
+     */
+    public void xsetDesc(org.apache.xmlbeans.XmlString desc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DESC$0);
+            }
+            target.set(desc);
+        }
+    }
+    
+    /**
+     * Unsets the "desc" element
+     */
+    public void unsetDesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESC$0, 0);
+        }
+    }
+}
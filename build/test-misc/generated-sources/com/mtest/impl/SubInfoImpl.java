@@ -0,0 +1,132 @@
+/*
+ * XML Type:  SubInfo
+ * Namespace: http://www.mtest.com
+ * Java type: com.mtest.SubInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mtest.impl;
+/**
+ * An XML SubInfo(@http://www.mtest.com).
+ *
+ * This is a complex type.
+ */
+public class SubInfoImpl extends com.mtest.impl.InfoImpl implements com.mtest.SubInfo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubInfoImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBDESC$0 = 
+        new javax.xml.namespace.QName("http://www.mtest.com", "subdesc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1868063535:
+                if (name.equals(SUBDESC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "subdesc" element
+     */
+    public java.lang.String getSubdesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDESC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "subdesc" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSubdesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDESC$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "subdesc" element
+     */
+    public boolean isSetSubdesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SUBDESC$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "subdesc" element
+     */
+    public void setSubdesc(java.lang.String subdesc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDESC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBDESC$0);
+            }
+            target.setStringValue(subdesc);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "subdesc" element
+     */
+    public void xsetSubdesc(org.apache.xmlbeans.XmlString subdesc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDESC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SUBDESC$0);
+            }
+            target.set(subdesc);
+        }
+    }
+    
+    /**
+     * Unsets the "subdesc" element
+     */
+    public void unsetSubdesc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SUBDESC$0, 0);
+        }
+    }
+}
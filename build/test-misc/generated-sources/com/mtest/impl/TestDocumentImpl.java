@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://www.mtest.com
+ * Java type: com.mtest.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mtest.impl;
+/**
+ * A document containing one Test(@http://www.mtest.com) element.
+ *
+ * This is a complex type.
+ */
+public class TestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.mtest.TestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://www.mtest.com", "Test");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2603186:
+                if (name.equals(TEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Test" element
+     */
+    public com.mtest.Info getTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.mtest.Info target = null;
+            target = (com.mtest.Info)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(com.mtest.Info test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Test" element
+     */
+    public com.mtest.Info addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.mtest.Info target = null;
+            target = (com.mtest.Info)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+}
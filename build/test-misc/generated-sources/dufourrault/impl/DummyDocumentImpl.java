@@ -0,0 +1,153 @@
+/*
+ * An XML document type.
+ * Localname: dummy
+ * Namespace: http://dufourrault
+ * Java type: dufourrault.DummyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package dufourrault.impl;
+/**
+ * A document containing one dummy(@http://dufourrault) element.
+ *
+ * This is a complex type.
+ */
+public class DummyDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dufourrault.DummyDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DummyDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DUMMY$0 = 
+        new javax.xml.namespace.QName("http://dufourrault", "dummy");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 95945896:
+                if (name.equals(DUMMY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "dummy" element
+     */
+    public dufourrault.DummyDocument.Dummy getDummy()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            dufourrault.DummyDocument.Dummy target = null;
+            target = (dufourrault.DummyDocument.Dummy)get_store().find_element_user(DUMMY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "dummy" element
+     */
+    public void setDummy(dufourrault.DummyDocument.Dummy dummy)
+    {
+        generatedSetterHelperImpl(dummy, DUMMY$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "dummy" element
+     */
+    public dufourrault.DummyDocument.Dummy addNewDummy()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            dufourrault.DummyDocument.Dummy target = null;
+            target = (dufourrault.DummyDocument.Dummy)get_store().add_element_user(DUMMY$0);
+            return target;
+        }
+    }
+    /**
+     * An XML dummy(@http://dufourrault).
+     *
+     * This is a complex type.
+     */
+    public static class DummyImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dufourrault.DummyDocument.Dummy
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DummyImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FATHER$0 = 
+            new javax.xml.namespace.QName("http://dufourrault", "father");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1281653412:
+                    if (name.equals(FATHER$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "father" element
+         */
+        public dufourrault.Father getFather()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                dufourrault.Father target = null;
+                target = (dufourrault.Father)get_store().find_element_user(FATHER$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "father" element
+         */
+        public void setFather(dufourrault.Father father)
+        {
+            generatedSetterHelperImpl(father, FATHER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "father" element
+         */
+        public dufourrault.Father addNewFather()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                dufourrault.Father target = null;
+                target = (dufourrault.Father)get_store().add_element_user(FATHER$0);
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  father
+ * Namespace: http://dufourrault
+ * Java type: dufourrault.Father
+ *
+ * Automatically generated - do not modify.
+ */
+package dufourrault.impl;
+/**
+ * An XML father(@http://dufourrault).
+ *
+ * This is a complex type.
+ */
+public class FatherImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dufourrault.Father
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FatherImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SON$0 = 
+        new javax.xml.namespace.QName("http://dufourrault", "son");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 114066:
+                if (name.equals(SON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "son" element
+     */
+    public java.lang.String getSon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "son" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SON$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "son" element
+     */
+    public void setSon(java.lang.String son)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SON$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SON$0);
+            }
+            target.setStringValue(son);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "son" element
+     */
+    public void xsetSon(org.apache.xmlbeans.XmlString son)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SON$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SON$0);
+            }
+            target.set(son);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * XML Type:  BaseFaultType
+ * Namespace: http://jira/xmlbeans_105
+ * Java type: jira.xmlbeans105.BaseFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans105;
+
+
+/**
+ * An XML BaseFaultType(@http://jira/xmlbeans_105).
+ *
+ * This is a complex type.
+ */
+public interface BaseFaultType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BaseFaultType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("basefaulttype76f0type");
+    
+    /**
+     * Gets array of all "Description" elements
+     */
+    jira.xmlbeans105.BaseFaultType.Description[] getDescriptionArray();
+    
+    /**
+     * Gets ith "Description" element
+     */
+    jira.xmlbeans105.BaseFaultType.Description getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "Description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "Description" element
+     */
+    void setDescriptionArray(jira.xmlbeans105.BaseFaultType.Description[] descriptionArray);
+    
+    /**
+     * Sets ith "Description" element
+     */
+    void setDescriptionArray(int i, jira.xmlbeans105.BaseFaultType.Description description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "Description" element
+     */
+    jira.xmlbeans105.BaseFaultType.Description insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "Description" element
+     */
+    jira.xmlbeans105.BaseFaultType.Description addNewDescription();
+    
+    /**
+     * Removes the ith "Description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * An XML Description(@http://jira/xmlbeans_105).
+     *
+     * This is an atomic type that is a restriction of jira.xmlbeans105.BaseFaultType$Description.
+     */
+    public interface Description extends org.apache.xmlbeans.XmlString
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Description.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("description93a8elemtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static jira.xmlbeans105.BaseFaultType.Description newInstance() {
+              return (jira.xmlbeans105.BaseFaultType.Description) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static jira.xmlbeans105.BaseFaultType.Description newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (jira.xmlbeans105.BaseFaultType.Description) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static jira.xmlbeans105.BaseFaultType newInstance() {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static jira.xmlbeans105.BaseFaultType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static jira.xmlbeans105.BaseFaultType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans105.BaseFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans105.BaseFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans105.BaseFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * An XML document type.
+ * Localname: ResourceUnknownFault
+ * Namespace: http://jira/xmlbeans_105
+ * Java type: jira.xmlbeans105.ResourceUnknownFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans105;
+
+
+/**
+ * A document containing one ResourceUnknownFault(@http://jira/xmlbeans_105) element.
+ *
+ * This is a complex type.
+ */
+public interface ResourceUnknownFaultDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ResourceUnknownFaultDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("resourceunknownfaultc113doctype");
+    
+    /**
+     * Gets the "ResourceUnknownFault" element
+     */
+    jira.xmlbeans105.ResourceUnknownFaultType getResourceUnknownFault();
+    
+    /**
+     * Sets the "ResourceUnknownFault" element
+     */
+    void setResourceUnknownFault(jira.xmlbeans105.ResourceUnknownFaultType resourceUnknownFault);
+    
+    /**
+     * Appends and returns a new empty "ResourceUnknownFault" element
+     */
+    jira.xmlbeans105.ResourceUnknownFaultType addNewResourceUnknownFault();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument newInstance() {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans105.ResourceUnknownFaultDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans105.ResourceUnknownFaultDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
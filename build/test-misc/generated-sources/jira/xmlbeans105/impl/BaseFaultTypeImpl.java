@@ -0,0 +1,164 @@
+/*
+ * XML Type:  BaseFaultType
+ * Namespace: http://jira/xmlbeans_105
+ * Java type: jira.xmlbeans105.BaseFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans105.impl;
+/**
+ * An XML BaseFaultType(@http://jira/xmlbeans_105).
+ *
+ * This is a complex type.
+ */
+public class BaseFaultTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans105.BaseFaultType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseFaultTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_105", "Description");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -56677412:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "Description" elements
+     */
+    public jira.xmlbeans105.BaseFaultType.Description[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            jira.xmlbeans105.BaseFaultType.Description[] result = new jira.xmlbeans105.BaseFaultType.Description[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "Description" element
+     */
+    public jira.xmlbeans105.BaseFaultType.Description getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans105.BaseFaultType.Description target = null;
+            target = (jira.xmlbeans105.BaseFaultType.Description)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "Description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "Description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(jira.xmlbeans105.BaseFaultType.Description[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "Description" element
+     */
+    public void setDescriptionArray(int i, jira.xmlbeans105.BaseFaultType.Description description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "Description" element
+     */
+    public jira.xmlbeans105.BaseFaultType.Description insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans105.BaseFaultType.Description target = null;
+            target = (jira.xmlbeans105.BaseFaultType.Description)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "Description" element
+     */
+    public jira.xmlbeans105.BaseFaultType.Description addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans105.BaseFaultType.Description target = null;
+            target = (jira.xmlbeans105.BaseFaultType.Description)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "Description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    /**
+     * An XML Description(@http://jira/xmlbeans_105).
+     *
+     * This is an atomic type that is a restriction of jira.xmlbeans105.BaseFaultType$Description.
+     */
+    public static class DescriptionImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements jira.xmlbeans105.BaseFaultType.Description
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DescriptionImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected DescriptionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ResourceUnknownFault
+ * Namespace: http://jira/xmlbeans_105
+ * Java type: jira.xmlbeans105.ResourceUnknownFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans105.impl;
+/**
+ * A document containing one ResourceUnknownFault(@http://jira/xmlbeans_105) element.
+ *
+ * This is a complex type.
+ */
+public class ResourceUnknownFaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans105.ResourceUnknownFaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResourceUnknownFaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESOURCEUNKNOWNFAULT$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_105", "ResourceUnknownFault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -455777466:
+                if (name.equals(RESOURCEUNKNOWNFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ResourceUnknownFault" element
+     */
+    public jira.xmlbeans105.ResourceUnknownFaultType getResourceUnknownFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans105.ResourceUnknownFaultType target = null;
+            target = (jira.xmlbeans105.ResourceUnknownFaultType)get_store().find_element_user(RESOURCEUNKNOWNFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ResourceUnknownFault" element
+     */
+    public void setResourceUnknownFault(jira.xmlbeans105.ResourceUnknownFaultType resourceUnknownFault)
+    {
+        generatedSetterHelperImpl(resourceUnknownFault, RESOURCEUNKNOWNFAULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ResourceUnknownFault" element
+     */
+    public jira.xmlbeans105.ResourceUnknownFaultType addNewResourceUnknownFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans105.ResourceUnknownFaultType target = null;
+            target = (jira.xmlbeans105.ResourceUnknownFaultType)get_store().add_element_user(RESOURCEUNKNOWNFAULT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  ResourceUnknownFaultType
+ * Namespace: http://jira/xmlbeans_105
+ * Java type: jira.xmlbeans105.ResourceUnknownFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans105.impl;
+/**
+ * An XML ResourceUnknownFaultType(@http://jira/xmlbeans_105).
+ *
+ * This is a complex type.
+ */
+public class ResourceUnknownFaultTypeImpl extends jira.xmlbeans105.impl.BaseFaultTypeImpl implements jira.xmlbeans105.ResourceUnknownFaultType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResourceUnknownFaultTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
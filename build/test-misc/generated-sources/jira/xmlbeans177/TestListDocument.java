@@ -0,0 +1,209 @@
+/*
+ * An XML document type.
+ * Localname: testList
+ * Namespace: http://jira/xmlbeans_177
+ * Java type: jira.xmlbeans177.TestListDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans177;
+
+
+/**
+ * A document containing one testList(@http://jira/xmlbeans_177) element.
+ *
+ * This is a complex type.
+ */
+public interface TestListDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestListDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testlistf6a4doctype");
+    
+    /**
+     * Gets the "testList" element
+     */
+    jira.xmlbeans177.TestListDocument.TestList getTestList();
+    
+    /**
+     * Sets the "testList" element
+     */
+    void setTestList(jira.xmlbeans177.TestListDocument.TestList testList);
+    
+    /**
+     * Appends and returns a new empty "testList" element
+     */
+    jira.xmlbeans177.TestListDocument.TestList addNewTestList();
+    
+    /**
+     * An XML testList(@http://jira/xmlbeans_177).
+     *
+     * This is a complex type.
+     */
+    public interface TestList extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestList.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testlistb190elemtype");
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        java.lang.String[] getTestArray();
+        
+        /**
+         * Gets ith "test" element
+         */
+        java.lang.String getTestArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "test" elements
+         */
+        org.apache.xmlbeans.XmlString[] xgetTestArray();
+        
+        /**
+         * Gets (as xml) ith "test" element
+         */
+        org.apache.xmlbeans.XmlString xgetTestArray(int i);
+        
+        /**
+         * Returns number of "test" element
+         */
+        int sizeOfTestArray();
+        
+        /**
+         * Sets array of all "test" element
+         */
+        void setTestArray(java.lang.String[] testArray);
+        
+        /**
+         * Sets ith "test" element
+         */
+        void setTestArray(int i, java.lang.String test);
+        
+        /**
+         * Sets (as xml) array of all "test" element
+         */
+        void xsetTestArray(org.apache.xmlbeans.XmlString[] testArray);
+        
+        /**
+         * Sets (as xml) ith "test" element
+         */
+        void xsetTestArray(int i, org.apache.xmlbeans.XmlString test);
+        
+        /**
+         * Inserts the value as the ith "test" element
+         */
+        void insertTest(int i, java.lang.String test);
+        
+        /**
+         * Appends the value as the last "test" element
+         */
+        void addTest(java.lang.String test);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        org.apache.xmlbeans.XmlString insertNewTest(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        org.apache.xmlbeans.XmlString addNewTest();
+        
+        /**
+         * Removes the ith "test" element
+         */
+        void removeTest(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static jira.xmlbeans177.TestListDocument.TestList newInstance() {
+              return (jira.xmlbeans177.TestListDocument.TestList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static jira.xmlbeans177.TestListDocument.TestList newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (jira.xmlbeans177.TestListDocument.TestList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static jira.xmlbeans177.TestListDocument newInstance() {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static jira.xmlbeans177.TestListDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static jira.xmlbeans177.TestListDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static jira.xmlbeans177.TestListDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans177.TestListDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans177.TestListDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans177.TestListDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
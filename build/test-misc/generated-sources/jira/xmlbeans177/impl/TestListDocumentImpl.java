@@ -0,0 +1,322 @@
+/*
+ * An XML document type.
+ * Localname: testList
+ * Namespace: http://jira/xmlbeans_177
+ * Java type: jira.xmlbeans177.TestListDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans177.impl;
+/**
+ * A document containing one testList(@http://jira/xmlbeans_177) element.
+ *
+ * This is a complex type.
+ */
+public class TestListDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans177.TestListDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestListDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTLIST$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_177", "testList");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1147023280:
+                if (name.equals(TESTLIST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "testList" element
+     */
+    public jira.xmlbeans177.TestListDocument.TestList getTestList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans177.TestListDocument.TestList target = null;
+            target = (jira.xmlbeans177.TestListDocument.TestList)get_store().find_element_user(TESTLIST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "testList" element
+     */
+    public void setTestList(jira.xmlbeans177.TestListDocument.TestList testList)
+    {
+        generatedSetterHelperImpl(testList, TESTLIST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "testList" element
+     */
+    public jira.xmlbeans177.TestListDocument.TestList addNewTestList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans177.TestListDocument.TestList target = null;
+            target = (jira.xmlbeans177.TestListDocument.TestList)get_store().add_element_user(TESTLIST$0);
+            return target;
+        }
+    }
+    /**
+     * An XML testList(@http://jira/xmlbeans_177).
+     *
+     * This is a complex type.
+     */
+    public static class TestListImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans177.TestListDocument.TestList
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestListImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName TEST$0 = 
+            new javax.xml.namespace.QName("", "test");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 3556498:
+                    if (name.equals(TEST$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        public java.lang.String[] getTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TEST$0, targetList);
+                java.lang.String[] result = new java.lang.String[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test" element
+         */
+        public java.lang.String getTestArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "test" elements
+         */
+        public org.apache.xmlbeans.XmlString[] xgetTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TEST$0, targetList);
+                org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "test" element
+         */
+        public org.apache.xmlbeans.XmlString xgetTestArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test" element
+         */
+        public int sizeOfTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TEST$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "test" element
+         */
+        public void setTestArray(java.lang.String[] testArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(testArray, TEST$0);
+            }
+        }
+        
+        /**
+         * Sets ith "test" element
+         */
+        public void setTestArray(int i, java.lang.String test)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setStringValue(test);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "test" element
+         */
+        public void xsetTestArray(org.apache.xmlbeans.XmlString[]testArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(testArray, TEST$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "test" element
+         */
+        public void xsetTestArray(int i, org.apache.xmlbeans.XmlString test)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(test);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "test" element
+         */
+        public void insertTest(int i, java.lang.String test)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(TEST$0, i);
+                target.setStringValue(test);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "test" element
+         */
+        public void addTest(java.lang.String test)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TEST$0);
+                target.setStringValue(test);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        public org.apache.xmlbeans.XmlString insertNewTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(TEST$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        public org.apache.xmlbeans.XmlString addNewTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(TEST$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test" element
+         */
+        public void removeTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TEST$0, i);
+            }
+        }
+    }
+}
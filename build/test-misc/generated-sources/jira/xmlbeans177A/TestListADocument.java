@@ -0,0 +1,226 @@
+/*
+ * An XML document type.
+ * Localname: testListA
+ * Namespace: http://jira/xmlbeans_177a
+ * Java type: jira.xmlbeans177A.TestListADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans177A;
+
+
+/**
+ * A document containing one testListA(@http://jira/xmlbeans_177a) element.
+ *
+ * This is a complex type.
+ */
+public interface TestListADocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestListADocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testlista834cdoctype");
+    
+    /**
+     * Gets the "testListA" element
+     */
+    jira.xmlbeans177A.TestListADocument.TestListA getTestListA();
+    
+    /**
+     * Sets the "testListA" element
+     */
+    void setTestListA(jira.xmlbeans177A.TestListADocument.TestListA testListA);
+    
+    /**
+     * Appends and returns a new empty "testListA" element
+     */
+    jira.xmlbeans177A.TestListADocument.TestListA addNewTestListA();
+    
+    /**
+     * An XML testListA(@http://jira/xmlbeans_177a).
+     *
+     * This is a complex type.
+     */
+    public interface TestListA extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestListA.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testlistab1e9elemtype");
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        jira.xmlbeans177A.TestListADocument.TestListA.Test[] getTestArray();
+        
+        /**
+         * Gets ith "test" element
+         */
+        jira.xmlbeans177A.TestListADocument.TestListA.Test getTestArray(int i);
+        
+        /**
+         * Returns number of "test" element
+         */
+        int sizeOfTestArray();
+        
+        /**
+         * Sets array of all "test" element
+         */
+        void setTestArray(jira.xmlbeans177A.TestListADocument.TestListA.Test[] testArray);
+        
+        /**
+         * Sets ith "test" element
+         */
+        void setTestArray(int i, jira.xmlbeans177A.TestListADocument.TestListA.Test test);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        jira.xmlbeans177A.TestListADocument.TestListA.Test insertNewTest(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        jira.xmlbeans177A.TestListADocument.TestListA.Test addNewTest();
+        
+        /**
+         * Removes the ith "test" element
+         */
+        void removeTest(int i);
+        
+        /**
+         * An XML test(@).
+         *
+         * This is a complex type.
+         */
+        public interface Test extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Test.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("test3987elemtype");
+            
+            /**
+             * Gets the "a" attribute
+             */
+            java.lang.String getA();
+            
+            /**
+             * Gets (as xml) the "a" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetA();
+            
+            /**
+             * Sets the "a" attribute
+             */
+            void setA(java.lang.String a);
+            
+            /**
+             * Sets (as xml) the "a" attribute
+             */
+            void xsetA(org.apache.xmlbeans.XmlString a);
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static jira.xmlbeans177A.TestListADocument.TestListA.Test newInstance() {
+                  return (jira.xmlbeans177A.TestListADocument.TestListA.Test) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static jira.xmlbeans177A.TestListADocument.TestListA.Test newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (jira.xmlbeans177A.TestListADocument.TestListA.Test) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static jira.xmlbeans177A.TestListADocument.TestListA newInstance() {
+              return (jira.xmlbeans177A.TestListADocument.TestListA) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static jira.xmlbeans177A.TestListADocument.TestListA newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (jira.xmlbeans177A.TestListADocument.TestListA) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static jira.xmlbeans177A.TestListADocument newInstance() {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static jira.xmlbeans177A.TestListADocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static jira.xmlbeans177A.TestListADocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans177A.TestListADocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans177A.TestListADocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans177A.TestListADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
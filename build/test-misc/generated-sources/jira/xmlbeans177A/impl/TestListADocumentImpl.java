@@ -0,0 +1,302 @@
+/*
+ * An XML document type.
+ * Localname: testListA
+ * Namespace: http://jira/xmlbeans_177a
+ * Java type: jira.xmlbeans177A.TestListADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans177A.impl;
+/**
+ * A document containing one testListA(@http://jira/xmlbeans_177a) element.
+ *
+ * This is a complex type.
+ */
+public class TestListADocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans177A.TestListADocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestListADocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTLISTA$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_177a", "testListA");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1197983247:
+                if (name.equals(TESTLISTA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "testListA" element
+     */
+    public jira.xmlbeans177A.TestListADocument.TestListA getTestListA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans177A.TestListADocument.TestListA target = null;
+            target = (jira.xmlbeans177A.TestListADocument.TestListA)get_store().find_element_user(TESTLISTA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "testListA" element
+     */
+    public void setTestListA(jira.xmlbeans177A.TestListADocument.TestListA testListA)
+    {
+        generatedSetterHelperImpl(testListA, TESTLISTA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "testListA" element
+     */
+    public jira.xmlbeans177A.TestListADocument.TestListA addNewTestListA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans177A.TestListADocument.TestListA target = null;
+            target = (jira.xmlbeans177A.TestListADocument.TestListA)get_store().add_element_user(TESTLISTA$0);
+            return target;
+        }
+    }
+    /**
+     * An XML testListA(@http://jira/xmlbeans_177a).
+     *
+     * This is a complex type.
+     */
+    public static class TestListAImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans177A.TestListADocument.TestListA
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestListAImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName TEST$0 = 
+            new javax.xml.namespace.QName("", "test");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 3556498:
+                    if (name.equals(TEST$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "test" elements
+         */
+        public jira.xmlbeans177A.TestListADocument.TestListA.Test[] getTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TEST$0, targetList);
+                jira.xmlbeans177A.TestListADocument.TestListA.Test[] result = new jira.xmlbeans177A.TestListADocument.TestListA.Test[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test" element
+         */
+        public jira.xmlbeans177A.TestListADocument.TestListA.Test getTestArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans177A.TestListADocument.TestListA.Test target = null;
+                target = (jira.xmlbeans177A.TestListADocument.TestListA.Test)get_store().find_element_user(TEST$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test" element
+         */
+        public int sizeOfTestArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TEST$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "test" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setTestArray(jira.xmlbeans177A.TestListADocument.TestListA.Test[] testArray)
+        {
+            check_orphaned();
+            arraySetterHelper(testArray, TEST$0);
+        }
+        
+        /**
+         * Sets ith "test" element
+         */
+        public void setTestArray(int i, jira.xmlbeans177A.TestListADocument.TestListA.Test test)
+        {
+            generatedSetterHelperImpl(test, TEST$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test" element
+         */
+        public jira.xmlbeans177A.TestListADocument.TestListA.Test insertNewTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans177A.TestListADocument.TestListA.Test target = null;
+                target = (jira.xmlbeans177A.TestListADocument.TestListA.Test)get_store().insert_element_user(TEST$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test" element
+         */
+        public jira.xmlbeans177A.TestListADocument.TestListA.Test addNewTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans177A.TestListADocument.TestListA.Test target = null;
+                target = (jira.xmlbeans177A.TestListADocument.TestListA.Test)get_store().add_element_user(TEST$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test" element
+         */
+        public void removeTest(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TEST$0, i);
+            }
+        }
+        /**
+         * An XML test(@).
+         *
+         * This is a complex type.
+         */
+        public static class TestImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans177A.TestListADocument.TestListA.Test
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public TestImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName A$0 = 
+                new javax.xml.namespace.QName("", "a");
+            
+            
+            /**
+             * Gets the "a" attribute
+             */
+            public java.lang.String getA()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "a" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetA()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(A$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "a" attribute
+             */
+            public void setA(java.lang.String a)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(A$0);
+                    }
+                    target.setStringValue(a);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "a" attribute
+             */
+            public void xsetA(org.apache.xmlbeans.XmlString a)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(A$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(A$0);
+                    }
+                    target.set(a);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * An XML document type.
+ * Localname: Person
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution;
+
+
+/**
+ * A document containing one Person(@http://jira/xmlbeans_228/substitution) element.
+ *
+ * This is a complex type.
+ */
+public interface PersonDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PersonDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("personca66doctype");
+    
+    /**
+     * Gets the "Person" element
+     */
+    jira.xmlbeans228.substitution.PersonDocument.Person getPerson();
+    
+    /**
+     * Sets the "Person" element
+     */
+    void setPerson(jira.xmlbeans228.substitution.PersonDocument.Person person);
+    
+    /**
+     * Appends and returns a new empty "Person" element
+     */
+    jira.xmlbeans228.substitution.PersonDocument.Person addNewPerson();
+    
+    /**
+     * An XML Person(@http://jira/xmlbeans_228/substitution).
+     *
+     * This is a complex type.
+     */
+    public interface Person extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Person.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("person0c35elemtype");
+        
+        /**
+         * Gets the "FirstName" element
+         */
+        java.lang.String getFirstName();
+        
+        /**
+         * Gets (as xml) the "FirstName" element
+         */
+        org.apache.xmlbeans.XmlString xgetFirstName();
+        
+        /**
+         * Sets the "FirstName" element
+         */
+        void setFirstName(java.lang.String firstName);
+        
+        /**
+         * Sets (as xml) the "FirstName" element
+         */
+        void xsetFirstName(org.apache.xmlbeans.XmlString firstName);
+        
+        /**
+         * Gets the "LastName" element
+         */
+        java.lang.String getLastName();
+        
+        /**
+         * Gets (as xml) the "LastName" element
+         */
+        org.apache.xmlbeans.XmlString xgetLastName();
+        
+        /**
+         * Sets the "LastName" element
+         */
+        void setLastName(java.lang.String lastName);
+        
+        /**
+         * Sets (as xml) the "LastName" element
+         */
+        void xsetLastName(org.apache.xmlbeans.XmlString lastName);
+        
+        /**
+         * Gets the "Comment" element
+         */
+        jira.xmlbeans228.substitution.CommentType getComment();
+        
+        /**
+         * True if has "Comment" element
+         */
+        boolean isSetComment();
+        
+        /**
+         * Sets the "Comment" element
+         */
+        void setComment(jira.xmlbeans228.substitution.CommentType comment);
+        
+        /**
+         * Appends and returns a new empty "Comment" element
+         */
+        jira.xmlbeans228.substitution.CommentType addNewComment();
+        
+        /**
+         * Unsets the "Comment" element
+         */
+        void unsetComment();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static jira.xmlbeans228.substitution.PersonDocument.Person newInstance() {
+              return (jira.xmlbeans228.substitution.PersonDocument.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static jira.xmlbeans228.substitution.PersonDocument.Person newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (jira.xmlbeans228.substitution.PersonDocument.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static jira.xmlbeans228.substitution.PersonDocument newInstance() {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static jira.xmlbeans228.substitution.PersonDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans228.substitution.PersonDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static jira.xmlbeans228.substitution.PersonDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (jira.xmlbeans228.substitution.PersonDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: Comment
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.CommentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution.impl;
+/**
+ * A document containing one Comment(@http://jira/xmlbeans_228/substitution) element.
+ *
+ * This is a complex type.
+ */
+public class CommentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans228.substitution.CommentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CommentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMMENT$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "Comment");
+    private static final org.apache.xmlbeans.QNameSet COMMENT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "FirstCommentElement"),
+        new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "Comment"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1679915457:
+                if (name.equals(COMMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Comment" element
+     */
+    public jira.xmlbeans228.substitution.CommentType getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.CommentType target = null;
+            target = (jira.xmlbeans228.substitution.CommentType)get_store().find_element_user(COMMENT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Comment" element
+     */
+    public void setComment(jira.xmlbeans228.substitution.CommentType comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.CommentType target = null;
+            target = (jira.xmlbeans228.substitution.CommentType)get_store().find_element_user(COMMENT$1, 0);
+            if (target == null)
+            {
+                target = (jira.xmlbeans228.substitution.CommentType)get_store().add_element_user(COMMENT$0);
+            }
+            target.set(comment);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "Comment" element
+     */
+    public jira.xmlbeans228.substitution.CommentType addNewComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.CommentType target = null;
+            target = (jira.xmlbeans228.substitution.CommentType)get_store().add_element_user(COMMENT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * XML Type:  CommentType
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.CommentType
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution.impl;
+/**
+ * An XML CommentType(@http://jira/xmlbeans_228/substitution).
+ *
+ * This is an atomic type that is a restriction of jira.xmlbeans228.substitution.CommentType.
+ */
+public class CommentTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements jira.xmlbeans228.substitution.CommentType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CommentTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected CommentTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: FirstCommentElement
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.FirstCommentElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution.impl;
+/**
+ * A document containing one FirstCommentElement(@http://jira/xmlbeans_228/substitution) element.
+ *
+ * This is a complex type.
+ */
+public class FirstCommentElementDocumentImpl extends jira.xmlbeans228.substitution.impl.CommentDocumentImpl implements jira.xmlbeans228.substitution.FirstCommentElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FirstCommentElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRSTCOMMENTELEMENT$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "FirstCommentElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 812163661:
+                if (name.equals(FIRSTCOMMENTELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "FirstCommentElement" element
+     */
+    public jira.xmlbeans228.substitution.FirstCommentType getFirstCommentElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.FirstCommentType target = null;
+            target = (jira.xmlbeans228.substitution.FirstCommentType)get_store().find_element_user(FIRSTCOMMENTELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "FirstCommentElement" element
+     */
+    public void setFirstCommentElement(jira.xmlbeans228.substitution.FirstCommentType firstCommentElement)
+    {
+        generatedSetterHelperImpl(firstCommentElement, FIRSTCOMMENTELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "FirstCommentElement" element
+     */
+    public jira.xmlbeans228.substitution.FirstCommentType addNewFirstCommentElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.FirstCommentType target = null;
+            target = (jira.xmlbeans228.substitution.FirstCommentType)get_store().add_element_user(FIRSTCOMMENTELEMENT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * XML Type:  FirstCommentType
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.FirstCommentType
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution.impl;
+/**
+ * An XML FirstCommentType(@http://jira/xmlbeans_228/substitution).
+ *
+ * This is an atomic type that is a restriction of jira.xmlbeans228.substitution.FirstCommentType.
+ */
+public class FirstCommentTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements jira.xmlbeans228.substitution.FirstCommentType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FirstCommentTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected FirstCommentTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    
+}
@@ -0,0 +1,339 @@
+/*
+ * An XML document type.
+ * Localname: Person
+ * Namespace: http://jira/xmlbeans_228/substitution
+ * Java type: jira.xmlbeans228.substitution.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package jira.xmlbeans228.substitution.impl;
+/**
+ * A document containing one Person(@http://jira/xmlbeans_228/substitution) element.
+ *
+ * This is a complex type.
+ */
+public class PersonDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans228.substitution.PersonDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "Person");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1907849355:
+                if (name.equals(PERSON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Person" element
+     */
+    public jira.xmlbeans228.substitution.PersonDocument.Person getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.PersonDocument.Person target = null;
+            target = (jira.xmlbeans228.substitution.PersonDocument.Person)get_store().find_element_user(PERSON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Person" element
+     */
+    public void setPerson(jira.xmlbeans228.substitution.PersonDocument.Person person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Person" element
+     */
+    public jira.xmlbeans228.substitution.PersonDocument.Person addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            jira.xmlbeans228.substitution.PersonDocument.Person target = null;
+            target = (jira.xmlbeans228.substitution.PersonDocument.Person)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Person(@http://jira/xmlbeans_228/substitution).
+     *
+     * This is a complex type.
+     */
+    public static class PersonImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements jira.xmlbeans228.substitution.PersonDocument.Person
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PersonImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FIRSTNAME$0 = 
+            new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "FirstName");
+        private static final javax.xml.namespace.QName LASTNAME$2 = 
+            new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "LastName");
+        private static final javax.xml.namespace.QName COMMENT$4 = 
+            new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "Comment");
+        private static final org.apache.xmlbeans.QNameSet COMMENT$5 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+            new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "FirstCommentElement"),
+            new javax.xml.namespace.QName("http://jira/xmlbeans_228/substitution", "Comment"),
+        });
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(3);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1679915457:
+                    if (name.equals(COMMENT$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case -1394955679:
+                    if (name.equals(LASTNAME$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 2136803643:
+                    if (name.equals(FIRSTNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "FirstName" element
+         */
+        public java.lang.String getFirstName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "FirstName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetFirstName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "FirstName" element
+         */
+        public void setFirstName(java.lang.String firstName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$0);
+                }
+                target.setStringValue(firstName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "FirstName" element
+         */
+        public void xsetFirstName(org.apache.xmlbeans.XmlString firstName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$0);
+                }
+                target.set(firstName);
+            }
+        }
+        
+        /**
+         * Gets the "LastName" element
+         */
+        public java.lang.String getLastName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "LastName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetLastName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "LastName" element
+         */
+        public void setLastName(java.lang.String lastName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$2);
+                }
+                target.setStringValue(lastName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "LastName" element
+         */
+        public void xsetLastName(org.apache.xmlbeans.XmlString lastName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$2);
+                }
+                target.set(lastName);
+            }
+        }
+        
+        /**
+         * Gets the "Comment" element
+         */
+        public jira.xmlbeans228.substitution.CommentType getComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans228.substitution.CommentType target = null;
+                target = (jira.xmlbeans228.substitution.CommentType)get_store().find_element_user(COMMENT$5, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Comment" element
+         */
+        public boolean isSetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COMMENT$5) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Comment" element
+         */
+        public void setComment(jira.xmlbeans228.substitution.CommentType comment)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans228.substitution.CommentType target = null;
+                target = (jira.xmlbeans228.substitution.CommentType)get_store().find_element_user(COMMENT$5, 0);
+                if (target == null)
+                {
+                    target = (jira.xmlbeans228.substitution.CommentType)get_store().add_element_user(COMMENT$4);
+                }
+                target.set(comment);
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty "Comment" element
+         */
+        public jira.xmlbeans228.substitution.CommentType addNewComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                jira.xmlbeans228.substitution.CommentType target = null;
+                target = (jira.xmlbeans228.substitution.CommentType)get_store().add_element_user(COMMENT$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "Comment" element
+         */
+        public void unsetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(COMMENT$5, 0);
+            }
+        }
+    }
+}
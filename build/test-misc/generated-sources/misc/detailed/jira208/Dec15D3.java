@@ -0,0 +1,99 @@
+/*
+ * XML Type:  dec15d3
+ * Namespace: http://misc/detailed/jira208
+ * Java type: misc.detailed.jira208.Dec15D3
+ *
+ * Automatically generated - do not modify.
+ */
+package misc.detailed.jira208;
+
+
+/**
+ * An XML dec15d3(@http://misc/detailed/jira208).
+ *
+ * This is an atomic type that is a restriction of misc.detailed.jira208.Dec15D3.
+ */
+public interface Dec15D3 extends org.apache.xmlbeans.XmlDecimal
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Dec15D3.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("dec15d3eab2type");
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static misc.detailed.jira208.Dec15D3 newValue(java.lang.Object obj) {
+          return (misc.detailed.jira208.Dec15D3) type.newValue( obj ); }
+        
+        public static misc.detailed.jira208.Dec15D3 newInstance() {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static misc.detailed.jira208.Dec15D3 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static misc.detailed.jira208.Dec15D3 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static misc.detailed.jira208.Dec15D3 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static misc.detailed.jira208.Dec15D3 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (misc.detailed.jira208.Dec15D3) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: frog_breath
+ * Namespace: http://misc/detailed/jira208
+ * Java type: misc.detailed.jira208.FrogBreathDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package misc.detailed.jira208;
+
+
+/**
+ * A document containing one frog_breath(@http://misc/detailed/jira208) element.
+ *
+ * This is a complex type.
+ */
+public interface FrogBreathDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FrogBreathDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("frogbreathed1cdoctype");
+    
+    /**
+     * Gets the "frog_breath" element
+     */
+    java.math.BigDecimal getFrogBreath();
+    
+    /**
+     * Gets (as xml) the "frog_breath" element
+     */
+    misc.detailed.jira208.Dec15D3 xgetFrogBreath();
+    
+    /**
+     * Sets the "frog_breath" element
+     */
+    void setFrogBreath(java.math.BigDecimal frogBreath);
+    
+    /**
+     * Sets (as xml) the "frog_breath" element
+     */
+    void xsetFrogBreath(misc.detailed.jira208.Dec15D3 frogBreath);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static misc.detailed.jira208.FrogBreathDocument newInstance() {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static misc.detailed.jira208.FrogBreathDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static misc.detailed.jira208.FrogBreathDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static misc.detailed.jira208.FrogBreathDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (misc.detailed.jira208.FrogBreathDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
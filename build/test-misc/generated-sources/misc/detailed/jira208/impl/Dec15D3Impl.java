@@ -0,0 +1,27 @@
+/*
+ * XML Type:  dec15d3
+ * Namespace: http://misc/detailed/jira208
+ * Java type: misc.detailed.jira208.Dec15D3
+ *
+ * Automatically generated - do not modify.
+ */
+package misc.detailed.jira208.impl;
+/**
+ * An XML dec15d3(@http://misc/detailed/jira208).
+ *
+ * This is an atomic type that is a restriction of misc.detailed.jira208.Dec15D3.
+ */
+public class Dec15D3Impl extends org.apache.xmlbeans.impl.values.JavaDecimalHolderEx implements misc.detailed.jira208.Dec15D3
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Dec15D3Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected Dec15D3Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: frog_breath
+ * Namespace: http://misc/detailed/jira208
+ * Java type: misc.detailed.jira208.FrogBreathDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package misc.detailed.jira208.impl;
+/**
+ * A document containing one frog_breath(@http://misc/detailed/jira208) element.
+ *
+ * This is a complex type.
+ */
+public class FrogBreathDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements misc.detailed.jira208.FrogBreathDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FrogBreathDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FROGBREATH$0 = 
+        new javax.xml.namespace.QName("http://misc/detailed/jira208", "frog_breath");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2143711909:
+                if (name.equals(FROGBREATH$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "frog_breath" element
+     */
+    public java.math.BigDecimal getFrogBreath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FROGBREATH$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "frog_breath" element
+     */
+    public misc.detailed.jira208.Dec15D3 xgetFrogBreath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            misc.detailed.jira208.Dec15D3 target = null;
+            target = (misc.detailed.jira208.Dec15D3)get_store().find_element_user(FROGBREATH$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "frog_breath" element
+     */
+    public void setFrogBreath(java.math.BigDecimal frogBreath)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FROGBREATH$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FROGBREATH$0);
+            }
+            target.setBigDecimalValue(frogBreath);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "frog_breath" element
+     */
+    public void xsetFrogBreath(misc.detailed.jira208.Dec15D3 frogBreath)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            misc.detailed.jira208.Dec15D3 target = null;
+            target = (misc.detailed.jira208.Dec15D3)get_store().find_element_user(FROGBREATH$0, 0);
+            if (target == null)
+            {
+                target = (misc.detailed.jira208.Dec15D3)get_store().add_element_user(FROGBREATH$0);
+            }
+            target.set(frogBreath);
+        }
+    }
+}
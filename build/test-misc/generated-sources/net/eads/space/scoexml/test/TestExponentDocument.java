@@ -0,0 +1,229 @@
+/*
+ * An XML document type.
+ * Localname: TestExponent
+ * Namespace: http://space.eads.net/scoexml/test
+ * Java type: net.eads.space.scoexml.test.TestExponentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package net.eads.space.scoexml.test;
+
+
+/**
+ * A document containing one TestExponent(@http://space.eads.net/scoexml/test) element.
+ *
+ * This is a complex type.
+ */
+public interface TestExponentDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestExponentDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testexponent6391doctype");
+    
+    /**
+     * Gets the "TestExponent" element
+     */
+    net.eads.space.scoexml.test.TestExponentDocument.TestExponent getTestExponent();
+    
+    /**
+     * Sets the "TestExponent" element
+     */
+    void setTestExponent(net.eads.space.scoexml.test.TestExponentDocument.TestExponent testExponent);
+    
+    /**
+     * Appends and returns a new empty "TestExponent" element
+     */
+    net.eads.space.scoexml.test.TestExponentDocument.TestExponent addNewTestExponent();
+    
+    /**
+     * An XML TestExponent(@http://space.eads.net/scoexml/test).
+     *
+     * This is a complex type.
+     */
+    public interface TestExponent extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestExponent.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testexponent6c6eelemtype");
+        
+        /**
+         * Gets the "float" attribute
+         */
+        float getFloat();
+        
+        /**
+         * Gets (as xml) the "float" attribute
+         */
+        org.apache.xmlbeans.XmlFloat xgetFloat();
+        
+        /**
+         * True if has "float" attribute
+         */
+        boolean isSetFloat();
+        
+        /**
+         * Sets the "float" attribute
+         */
+        void setFloat(float xfloat);
+        
+        /**
+         * Sets (as xml) the "float" attribute
+         */
+        void xsetFloat(org.apache.xmlbeans.XmlFloat xfloat);
+        
+        /**
+         * Unsets the "float" attribute
+         */
+        void unsetFloat();
+        
+        /**
+         * Gets the "double" attribute
+         */
+        double getDouble();
+        
+        /**
+         * Gets (as xml) the "double" attribute
+         */
+        org.apache.xmlbeans.XmlDouble xgetDouble();
+        
+        /**
+         * True if has "double" attribute
+         */
+        boolean isSetDouble();
+        
+        /**
+         * Sets the "double" attribute
+         */
+        void setDouble(double xdouble);
+        
+        /**
+         * Sets (as xml) the "double" attribute
+         */
+        void xsetDouble(org.apache.xmlbeans.XmlDouble xdouble);
+        
+        /**
+         * Unsets the "double" attribute
+         */
+        void unsetDouble();
+        
+        /**
+         * Gets the "decimal" attribute
+         */
+        java.math.BigDecimal getDecimal();
+        
+        /**
+         * Gets (as xml) the "decimal" attribute
+         */
+        org.apache.xmlbeans.XmlDecimal xgetDecimal();
+        
+        /**
+         * True if has "decimal" attribute
+         */
+        boolean isSetDecimal();
+        
+        /**
+         * Sets the "decimal" attribute
+         */
+        void setDecimal(java.math.BigDecimal decimal);
+        
+        /**
+         * Sets (as xml) the "decimal" attribute
+         */
+        void xsetDecimal(org.apache.xmlbeans.XmlDecimal decimal);
+        
+        /**
+         * Unsets the "decimal" attribute
+         */
+        void unsetDecimal();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static net.eads.space.scoexml.test.TestExponentDocument.TestExponent newInstance() {
+              return (net.eads.space.scoexml.test.TestExponentDocument.TestExponent) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static net.eads.space.scoexml.test.TestExponentDocument.TestExponent newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (net.eads.space.scoexml.test.TestExponentDocument.TestExponent) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static net.eads.space.scoexml.test.TestExponentDocument newInstance() {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.eads.space.scoexml.test.TestExponentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.eads.space.scoexml.test.TestExponentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * An XML document type.
+ * Localname: TestExponent
+ * Namespace: http://space.eads.net/scoexml/test
+ * Java type: net.eads.space.scoexml.test.TestExponentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package net.eads.space.scoexml.test.impl;
+/**
+ * A document containing one TestExponent(@http://space.eads.net/scoexml/test) element.
+ *
+ * This is a complex type.
+ */
+public class TestExponentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements net.eads.space.scoexml.test.TestExponentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestExponentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTEXPONENT$0 = 
+        new javax.xml.namespace.QName("http://space.eads.net/scoexml/test", "TestExponent");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1047509631:
+                if (name.equals(TESTEXPONENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TestExponent" element
+     */
+    public net.eads.space.scoexml.test.TestExponentDocument.TestExponent getTestExponent()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            net.eads.space.scoexml.test.TestExponentDocument.TestExponent target = null;
+            target = (net.eads.space.scoexml.test.TestExponentDocument.TestExponent)get_store().find_element_user(TESTEXPONENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TestExponent" element
+     */
+    public void setTestExponent(net.eads.space.scoexml.test.TestExponentDocument.TestExponent testExponent)
+    {
+        generatedSetterHelperImpl(testExponent, TESTEXPONENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TestExponent" element
+     */
+    public net.eads.space.scoexml.test.TestExponentDocument.TestExponent addNewTestExponent()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            net.eads.space.scoexml.test.TestExponentDocument.TestExponent target = null;
+            target = (net.eads.space.scoexml.test.TestExponentDocument.TestExponent)get_store().add_element_user(TESTEXPONENT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML TestExponent(@http://space.eads.net/scoexml/test).
+     *
+     * This is a complex type.
+     */
+    public static class TestExponentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements net.eads.space.scoexml.test.TestExponentDocument.TestExponent
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestExponentImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FLOAT$0 = 
+            new javax.xml.namespace.QName("", "float");
+        private static final javax.xml.namespace.QName DOUBLE$2 = 
+            new javax.xml.namespace.QName("", "double");
+        private static final javax.xml.namespace.QName DECIMAL$4 = 
+            new javax.xml.namespace.QName("", "decimal");
+        
+        
+        /**
+         * Gets the "float" attribute
+         */
+        public float getFloat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(FLOAT$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FLOAT$0);
+                if (target == null)
+                {
+                    return 0.0f;
+                }
+                return target.getFloatValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "float" attribute
+         */
+        public org.apache.xmlbeans.XmlFloat xgetFloat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(FLOAT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "float" attribute
+         */
+        public boolean isSetFloat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(FLOAT$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "float" attribute
+         */
+        public void setFloat(float xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FLOAT$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FLOAT$0);
+                }
+                target.setFloatValue(xfloat);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "float" attribute
+         */
+        public void xsetFloat(org.apache.xmlbeans.XmlFloat xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(FLOAT$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlFloat)get_store().add_attribute_user(FLOAT$0);
+                }
+                target.set(xfloat);
+            }
+        }
+        
+        /**
+         * Unsets the "float" attribute
+         */
+        public void unsetFloat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(FLOAT$0);
+            }
+        }
+        
+        /**
+         * Gets the "double" attribute
+         */
+        public double getDouble()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(DOUBLE$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexDouble(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DOUBLE$2);
+                if (target == null)
+                {
+                    return 0.0;
+                }
+                return target.getDoubleValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "double" attribute
+         */
+        public org.apache.xmlbeans.XmlDouble xgetDouble()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().find_attribute_user(DOUBLE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "double" attribute
+         */
+        public boolean isSetDouble()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DOUBLE$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "double" attribute
+         */
+        public void setDouble(double xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DOUBLE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DOUBLE$2);
+                }
+                target.setDoubleValue(xdouble);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "double" attribute
+         */
+        public void xsetDouble(org.apache.xmlbeans.XmlDouble xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().find_attribute_user(DOUBLE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDouble)get_store().add_attribute_user(DOUBLE$2);
+                }
+                target.set(xdouble);
+            }
+        }
+        
+        /**
+         * Unsets the "double" attribute
+         */
+        public void unsetDouble()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DOUBLE$2);
+            }
+        }
+        
+        /**
+         * Gets the "decimal" attribute
+         */
+        public java.math.BigDecimal getDecimal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DECIMAL$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigDecimalValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "decimal" attribute
+         */
+        public org.apache.xmlbeans.XmlDecimal xgetDecimal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(DECIMAL$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "decimal" attribute
+         */
+        public boolean isSetDecimal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DECIMAL$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "decimal" attribute
+         */
+        public void setDecimal(java.math.BigDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DECIMAL$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DECIMAL$4);
+                }
+                target.setBigDecimalValue(decimal);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "decimal" attribute
+         */
+        public void xsetDecimal(org.apache.xmlbeans.XmlDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(DECIMAL$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().add_attribute_user(DECIMAL$4);
+                }
+                target.set(decimal);
+            }
+        }
+        
+        /**
+         * Unsets the "decimal" attribute
+         */
+        public void unsetDecimal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DECIMAL$4);
+            }
+        }
+    }
+}
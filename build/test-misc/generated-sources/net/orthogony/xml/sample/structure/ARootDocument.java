@@ -0,0 +1,179 @@
+/*
+ * An XML document type.
+ * Localname: a-root
+ * Namespace: http://www.orthogony.net/xml/sample/structure
+ * Java type: net.orthogony.xml.sample.structure.ARootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package net.orthogony.xml.sample.structure;
+
+
+/**
+ * A document containing one a-root(@http://www.orthogony.net/xml/sample/structure) element.
+ *
+ * This is a complex type.
+ */
+public interface ARootDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ARootDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("aroot2febdoctype");
+    
+    /**
+     * Gets the "a-root" element
+     */
+    net.orthogony.xml.sample.structure.ARootDocument.ARoot getARoot();
+    
+    /**
+     * Sets the "a-root" element
+     */
+    void setARoot(net.orthogony.xml.sample.structure.ARootDocument.ARoot aRoot);
+    
+    /**
+     * Appends and returns a new empty "a-root" element
+     */
+    net.orthogony.xml.sample.structure.ARootDocument.ARoot addNewARoot();
+    
+    /**
+     * An XML a-root(@http://www.orthogony.net/xml/sample/structure).
+     *
+     * This is a complex type.
+     */
+    public interface ARoot extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ARoot.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("arootf341elemtype");
+        
+        /**
+         * Gets array of all "a-child" elements
+         */
+        net.orthogony.xml.sample.structure.ChildType[] getAChildArray();
+        
+        /**
+         * Gets ith "a-child" element
+         */
+        net.orthogony.xml.sample.structure.ChildType getAChildArray(int i);
+        
+        /**
+         * Returns number of "a-child" element
+         */
+        int sizeOfAChildArray();
+        
+        /**
+         * Sets array of all "a-child" element
+         */
+        void setAChildArray(net.orthogony.xml.sample.structure.ChildType[] aChildArray);
+        
+        /**
+         * Sets ith "a-child" element
+         */
+        void setAChildArray(int i, net.orthogony.xml.sample.structure.ChildType aChild);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "a-child" element
+         */
+        net.orthogony.xml.sample.structure.ChildType insertNewAChild(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "a-child" element
+         */
+        net.orthogony.xml.sample.structure.ChildType addNewAChild();
+        
+        /**
+         * Removes the ith "a-child" element
+         */
+        void removeAChild(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static net.orthogony.xml.sample.structure.ARootDocument.ARoot newInstance() {
+              return (net.orthogony.xml.sample.structure.ARootDocument.ARoot) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static net.orthogony.xml.sample.structure.ARootDocument.ARoot newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (net.orthogony.xml.sample.structure.ARootDocument.ARoot) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static net.orthogony.xml.sample.structure.ARootDocument newInstance() {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.orthogony.xml.sample.structure.ARootDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.orthogony.xml.sample.structure.ARootDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
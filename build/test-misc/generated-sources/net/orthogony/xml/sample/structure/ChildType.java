@@ -0,0 +1,116 @@
+/*
+ * XML Type:  childType
+ * Namespace: http://www.orthogony.net/xml/sample/structure
+ * Java type: net.orthogony.xml.sample.structure.ChildType
+ *
+ * Automatically generated - do not modify.
+ */
+package net.orthogony.xml.sample.structure;
+
+
+/**
+ * An XML childType(@http://www.orthogony.net/xml/sample/structure).
+ *
+ * This is a complex type.
+ */
+public interface ChildType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ChildType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("childtype2311type");
+    
+    /**
+     * Gets the "qualified-data" attribute
+     */
+    javax.xml.namespace.QName getQualifiedData();
+    
+    /**
+     * Gets (as xml) the "qualified-data" attribute
+     */
+    org.apache.xmlbeans.XmlQName xgetQualifiedData();
+    
+    /**
+     * Sets the "qualified-data" attribute
+     */
+    void setQualifiedData(javax.xml.namespace.QName qualifiedData);
+    
+    /**
+     * Sets (as xml) the "qualified-data" attribute
+     */
+    void xsetQualifiedData(org.apache.xmlbeans.XmlQName qualifiedData);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static net.orthogony.xml.sample.structure.ChildType newInstance() {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static net.orthogony.xml.sample.structure.ChildType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.orthogony.xml.sample.structure.ChildType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static net.orthogony.xml.sample.structure.ChildType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (net.orthogony.xml.sample.structure.ChildType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * An XML document type.
+ * Localname: a-root
+ * Namespace: http://www.orthogony.net/xml/sample/structure
+ * Java type: net.orthogony.xml.sample.structure.ARootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package net.orthogony.xml.sample.structure.impl;
+/**
+ * A document containing one a-root(@http://www.orthogony.net/xml/sample/structure) element.
+ *
+ * This is a complex type.
+ */
+public class ARootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements net.orthogony.xml.sample.structure.ARootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ARootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AROOT$0 = 
+        new javax.xml.namespace.QName("http://www.orthogony.net/xml/sample/structure", "a-root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1472874802:
+                if (name.equals(AROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "a-root" element
+     */
+    public net.orthogony.xml.sample.structure.ARootDocument.ARoot getARoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            net.orthogony.xml.sample.structure.ARootDocument.ARoot target = null;
+            target = (net.orthogony.xml.sample.structure.ARootDocument.ARoot)get_store().find_element_user(AROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a-root" element
+     */
+    public void setARoot(net.orthogony.xml.sample.structure.ARootDocument.ARoot aRoot)
+    {
+        generatedSetterHelperImpl(aRoot, AROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "a-root" element
+     */
+    public net.orthogony.xml.sample.structure.ARootDocument.ARoot addNewARoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            net.orthogony.xml.sample.structure.ARootDocument.ARoot target = null;
+            target = (net.orthogony.xml.sample.structure.ARootDocument.ARoot)get_store().add_element_user(AROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML a-root(@http://www.orthogony.net/xml/sample/structure).
+     *
+     * This is a complex type.
+     */
+    public static class ARootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements net.orthogony.xml.sample.structure.ARootDocument.ARoot
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ARootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ACHILD$0 = 
+            new javax.xml.namespace.QName("http://www.orthogony.net/xml/sample/structure", "a-child");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 1571454128:
+                    if (name.equals(ACHILD$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "a-child" elements
+         */
+        public net.orthogony.xml.sample.structure.ChildType[] getAChildArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ACHILD$0, targetList);
+                net.orthogony.xml.sample.structure.ChildType[] result = new net.orthogony.xml.sample.structure.ChildType[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "a-child" element
+         */
+        public net.orthogony.xml.sample.structure.ChildType getAChildArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                net.orthogony.xml.sample.structure.ChildType target = null;
+                target = (net.orthogony.xml.sample.structure.ChildType)get_store().find_element_user(ACHILD$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "a-child" element
+         */
+        public int sizeOfAChildArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ACHILD$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "a-child" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setAChildArray(net.orthogony.xml.sample.structure.ChildType[] aChildArray)
+        {
+            check_orphaned();
+            arraySetterHelper(aChildArray, ACHILD$0);
+        }
+        
+        /**
+         * Sets ith "a-child" element
+         */
+        public void setAChildArray(int i, net.orthogony.xml.sample.structure.ChildType aChild)
+        {
+            generatedSetterHelperImpl(aChild, ACHILD$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "a-child" element
+         */
+        public net.orthogony.xml.sample.structure.ChildType insertNewAChild(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                net.orthogony.xml.sample.structure.ChildType target = null;
+                target = (net.orthogony.xml.sample.structure.ChildType)get_store().insert_element_user(ACHILD$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "a-child" element
+         */
+        public net.orthogony.xml.sample.structure.ChildType addNewAChild()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                net.orthogony.xml.sample.structure.ChildType target = null;
+                target = (net.orthogony.xml.sample.structure.ChildType)get_store().add_element_user(ACHILD$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "a-child" element
+         */
+        public void removeAChild(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ACHILD$0, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * XML Type:  childType
+ * Namespace: http://www.orthogony.net/xml/sample/structure
+ * Java type: net.orthogony.xml.sample.structure.ChildType
+ *
+ * Automatically generated - do not modify.
+ */
+package net.orthogony.xml.sample.structure.impl;
+/**
+ * An XML childType(@http://www.orthogony.net/xml/sample/structure).
+ *
+ * This is a complex type.
+ */
+public class ChildTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements net.orthogony.xml.sample.structure.ChildType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ChildTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName QUALIFIEDDATA$0 = 
+        new javax.xml.namespace.QName("", "qualified-data");
+    
+    
+    /**
+     * Gets the "qualified-data" attribute
+     */
+    public javax.xml.namespace.QName getQualifiedData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIEDDATA$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getQNameValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "qualified-data" attribute
+     */
+    public org.apache.xmlbeans.XmlQName xgetQualifiedData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_attribute_user(QUALIFIEDDATA$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "qualified-data" attribute
+     */
+    public void setQualifiedData(javax.xml.namespace.QName qualifiedData)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIEDDATA$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUALIFIEDDATA$0);
+            }
+            target.setQNameValue(qualifiedData);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "qualified-data" attribute
+     */
+    public void xsetQualifiedData(org.apache.xmlbeans.XmlQName qualifiedData)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_attribute_user(QUALIFIEDDATA$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlQName)get_store().add_attribute_user(QUALIFIEDDATA$0);
+            }
+            target.set(qualifiedData);
+        }
+    }
+}
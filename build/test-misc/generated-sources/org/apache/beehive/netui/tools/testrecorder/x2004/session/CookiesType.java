@@ -0,0 +1,136 @@
+/*
+ * XML Type:  cookiesType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session;
+
+
+/**
+ * An XML cookiesType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public interface CookiesType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CookiesType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("cookiestypeca79type");
+    
+    /**
+     * Gets array of all "cookie" elements
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] getCookieArray();
+    
+    /**
+     * Gets ith "cookie" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType getCookieArray(int i);
+    
+    /**
+     * Returns number of "cookie" element
+     */
+    int sizeOfCookieArray();
+    
+    /**
+     * Sets array of all "cookie" element
+     */
+    void setCookieArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] cookieArray);
+    
+    /**
+     * Sets ith "cookie" element
+     */
+    void setCookieArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType cookie);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "cookie" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType insertNewCookie(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "cookie" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType addNewCookie();
+    
+    /**
+     * Removes the ith "cookie" element
+     */
+    void removeCookie(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType newInstance() {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * XML Type:  headersType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session;
+
+
+/**
+ * An XML headersType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public interface HeadersType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HeadersType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("headerstype6bf0type");
+    
+    /**
+     * Gets array of all "header" elements
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] getHeaderArray();
+    
+    /**
+     * Gets ith "header" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType getHeaderArray(int i);
+    
+    /**
+     * Returns number of "header" element
+     */
+    int sizeOfHeaderArray();
+    
+    /**
+     * Sets array of all "header" element
+     */
+    void setHeaderArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] headerArray);
+    
+    /**
+     * Sets ith "header" element
+     */
+    void setHeaderArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType header);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "header" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType insertNewHeader(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "header" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType addNewHeader();
+    
+    /**
+     * Removes the ith "header" element
+     */
+    void removeHeader(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType newInstance() {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * An XML document type.
+ * Localname: recorderSession
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session;
+
+
+/**
+ * A document containing one recorderSession(@http://beehive.apache.org/netui/tools/testrecorder/2004/session) element.
+ *
+ * This is a complex type.
+ */
+public interface RecorderSessionDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RecorderSessionDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("recordersessionf878doctype");
+    
+    /**
+     * Gets the "recorderSession" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession getRecorderSession();
+    
+    /**
+     * Sets the "recorderSession" element
+     */
+    void setRecorderSession(org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession recorderSession);
+    
+    /**
+     * Appends and returns a new empty "recorderSession" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession addNewRecorderSession();
+    
+    /**
+     * An XML recorderSession(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+     *
+     * This is a complex type.
+     */
+    public interface RecorderSession extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RecorderSession.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("recordersession7bdcelemtype");
+        
+        /**
+         * Gets the "sessionName" element
+         */
+        java.lang.String getSessionName();
+        
+        /**
+         * Gets (as xml) the "sessionName" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString xgetSessionName();
+        
+        /**
+         * Sets the "sessionName" element
+         */
+        void setSessionName(java.lang.String sessionName);
+        
+        /**
+         * Sets (as xml) the "sessionName" element
+         */
+        void xsetSessionName(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString sessionName);
+        
+        /**
+         * Gets the "tester" element
+         */
+        java.lang.String getTester();
+        
+        /**
+         * Gets (as xml) the "tester" element
+         */
+        org.apache.xmlbeans.XmlString xgetTester();
+        
+        /**
+         * Sets the "tester" element
+         */
+        void setTester(java.lang.String tester);
+        
+        /**
+         * Sets (as xml) the "tester" element
+         */
+        void xsetTester(org.apache.xmlbeans.XmlString tester);
+        
+        /**
+         * Gets the "startDate" element
+         */
+        java.lang.String getStartDate();
+        
+        /**
+         * Gets (as xml) the "startDate" element
+         */
+        org.apache.xmlbeans.XmlString xgetStartDate();
+        
+        /**
+         * Sets the "startDate" element
+         */
+        void setStartDate(java.lang.String startDate);
+        
+        /**
+         * Sets (as xml) the "startDate" element
+         */
+        void xsetStartDate(org.apache.xmlbeans.XmlString startDate);
+        
+        /**
+         * Gets the "description" element
+         */
+        java.lang.String getDescription();
+        
+        /**
+         * Gets (as xml) the "description" element
+         */
+        org.apache.xmlbeans.XmlString xgetDescription();
+        
+        /**
+         * Sets the "description" element
+         */
+        void setDescription(java.lang.String description);
+        
+        /**
+         * Sets (as xml) the "description" element
+         */
+        void xsetDescription(org.apache.xmlbeans.XmlString description);
+        
+        /**
+         * Gets the "tests" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType getTests();
+        
+        /**
+         * Sets the "tests" element
+         */
+        void setTests(org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType tests);
+        
+        /**
+         * Appends and returns a new empty "tests" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType addNewTests();
+        
+        /**
+         * Gets the "endDate" element
+         */
+        java.lang.String getEndDate();
+        
+        /**
+         * Gets (as xml) the "endDate" element
+         */
+        org.apache.xmlbeans.XmlString xgetEndDate();
+        
+        /**
+         * Sets the "endDate" element
+         */
+        void setEndDate(java.lang.String endDate);
+        
+        /**
+         * Sets (as xml) the "endDate" element
+         */
+        void xsetEndDate(org.apache.xmlbeans.XmlString endDate);
+        
+        /**
+         * Gets the "sessionStatus" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum getSessionStatus();
+        
+        /**
+         * Gets (as xml) the "sessionStatus" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType xgetSessionStatus();
+        
+        /**
+         * True if has "sessionStatus" element
+         */
+        boolean isSetSessionStatus();
+        
+        /**
+         * Sets the "sessionStatus" element
+         */
+        void setSessionStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum sessionStatus);
+        
+        /**
+         * Sets (as xml) the "sessionStatus" element
+         */
+        void xsetSessionStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType sessionStatus);
+        
+        /**
+         * Unsets the "sessionStatus" element
+         */
+        void unsetSessionStatus();
+        
+        /**
+         * Gets the "testCount" element
+         */
+        int getTestCount();
+        
+        /**
+         * Gets (as xml) the "testCount" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetTestCount();
+        
+        /**
+         * Sets the "testCount" element
+         */
+        void setTestCount(int testCount);
+        
+        /**
+         * Sets (as xml) the "testCount" element
+         */
+        void xsetTestCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt testCount);
+        
+        /**
+         * Gets the "passedCount" element
+         */
+        int getPassedCount();
+        
+        /**
+         * Gets (as xml) the "passedCount" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt xgetPassedCount();
+        
+        /**
+         * True if has "passedCount" element
+         */
+        boolean isSetPassedCount();
+        
+        /**
+         * Sets the "passedCount" element
+         */
+        void setPassedCount(int passedCount);
+        
+        /**
+         * Sets (as xml) the "passedCount" element
+         */
+        void xsetPassedCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt passedCount);
+        
+        /**
+         * Unsets the "passedCount" element
+         */
+        void unsetPassedCount();
+        
+        /**
+         * Gets the "failedCount" element
+         */
+        int getFailedCount();
+        
+        /**
+         * Gets (as xml) the "failedCount" element
+         */
+        org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt xgetFailedCount();
+        
+        /**
+         * True if has "failedCount" element
+         */
+        boolean isSetFailedCount();
+        
+        /**
+         * Sets the "failedCount" element
+         */
+        void setFailedCount(int failedCount);
+        
+        /**
+         * Sets (as xml) the "failedCount" element
+         */
+        void xsetFailedCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt failedCount);
+        
+        /**
+         * Unsets the "failedCount" element
+         */
+        void unsetFailedCount();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession newInstance() {
+              return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument newInstance() {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * XML Type:  requestType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session;
+
+
+/**
+ * An XML requestType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public interface RequestType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RequestType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("requesttype7a79type");
+    
+    /**
+     * Gets the "protocol" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType.Enum getProtocol();
+    
+    /**
+     * Gets (as xml) the "protocol" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType xgetProtocol();
+    
+    /**
+     * Sets the "protocol" element
+     */
+    void setProtocol(org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType.Enum protocol);
+    
+    /**
+     * Sets (as xml) the "protocol" element
+     */
+    void xsetProtocol(org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType protocol);
+    
+    /**
+     * Gets the "protocolVersion" element
+     */
+    java.lang.String getProtocolVersion();
+    
+    /**
+     * Gets (as xml) the "protocolVersion" element
+     */
+    org.apache.xmlbeans.XmlString xgetProtocolVersion();
+    
+    /**
+     * Sets the "protocolVersion" element
+     */
+    void setProtocolVersion(java.lang.String protocolVersion);
+    
+    /**
+     * Sets (as xml) the "protocolVersion" element
+     */
+    void xsetProtocolVersion(org.apache.xmlbeans.XmlString protocolVersion);
+    
+    /**
+     * Gets the "host" element
+     */
+    java.lang.String getHost();
+    
+    /**
+     * Gets (as xml) the "host" element
+     */
+    org.apache.xmlbeans.XmlString xgetHost();
+    
+    /**
+     * Sets the "host" element
+     */
+    void setHost(java.lang.String host);
+    
+    /**
+     * Sets (as xml) the "host" element
+     */
+    void xsetHost(org.apache.xmlbeans.XmlString host);
+    
+    /**
+     * Gets the "port" element
+     */
+    int getPort();
+    
+    /**
+     * Gets (as xml) the "port" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetPort();
+    
+    /**
+     * Sets the "port" element
+     */
+    void setPort(int port);
+    
+    /**
+     * Sets (as xml) the "port" element
+     */
+    void xsetPort(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt port);
+    
+    /**
+     * Gets the "uri" element
+     */
+    java.lang.String getUri();
+    
+    /**
+     * Gets (as xml) the "uri" element
+     */
+    org.apache.xmlbeans.XmlString xgetUri();
+    
+    /**
+     * Sets the "uri" element
+     */
+    void setUri(java.lang.String uri);
+    
+    /**
+     * Sets (as xml) the "uri" element
+     */
+    void xsetUri(org.apache.xmlbeans.XmlString uri);
+    
+    /**
+     * Gets the "method" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType.Enum getMethod();
+    
+    /**
+     * Gets (as xml) the "method" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType xgetMethod();
+    
+    /**
+     * Sets the "method" element
+     */
+    void setMethod(org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType.Enum method);
+    
+    /**
+     * Sets (as xml) the "method" element
+     */
+    void xsetMethod(org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType method);
+    
+    /**
+     * Gets the "parameters" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType getParameters();
+    
+    /**
+     * Sets the "parameters" element
+     */
+    void setParameters(org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType parameters);
+    
+    /**
+     * Appends and returns a new empty "parameters" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType addNewParameters();
+    
+    /**
+     * Gets the "cookies" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType getCookies();
+    
+    /**
+     * Sets the "cookies" element
+     */
+    void setCookies(org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType cookies);
+    
+    /**
+     * Appends and returns a new empty "cookies" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType addNewCookies();
+    
+    /**
+     * Gets the "headers" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType getHeaders();
+    
+    /**
+     * Sets the "headers" element
+     */
+    void setHeaders(org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType headers);
+    
+    /**
+     * Appends and returns a new empty "headers" element
+     */
+    org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType addNewHeaders();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType newInstance() {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  cookiesType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML cookiesType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class CookiesTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CookiesTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COOKIE$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "cookie");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1354757532:
+                if (name.equals(COOKIE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "cookie" elements
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] getCookieArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(COOKIE$0, targetList);
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] result = new org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "cookie" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType getCookieArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().find_element_user(COOKIE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "cookie" element
+     */
+    public int sizeOfCookieArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(COOKIE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "cookie" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCookieArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] cookieArray)
+    {
+        check_orphaned();
+        arraySetterHelper(cookieArray, COOKIE$0);
+    }
+    
+    /**
+     * Sets ith "cookie" element
+     */
+    public void setCookieArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType cookie)
+    {
+        generatedSetterHelperImpl(cookie, COOKIE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "cookie" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType insertNewCookie(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().insert_element_user(COOKIE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "cookie" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType addNewCookie()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().add_element_user(COOKIE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "cookie" element
+     */
+    public void removeCookie(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(COOKIE$0, i);
+        }
+    }
+}
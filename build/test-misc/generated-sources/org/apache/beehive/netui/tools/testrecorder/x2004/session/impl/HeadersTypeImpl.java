@@ -0,0 +1,143 @@
+/*
+ * XML Type:  headersType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML headersType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class HeadersTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HeadersTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HEADER$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "header");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1221270899:
+                if (name.equals(HEADER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "header" elements
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] getHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(HEADER$0, targetList);
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] result = new org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "header" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType getHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().find_element_user(HEADER$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "header" element
+     */
+    public int sizeOfHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HEADER$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setHeaderArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] headerArray)
+    {
+        check_orphaned();
+        arraySetterHelper(headerArray, HEADER$0);
+    }
+    
+    /**
+     * Sets ith "header" element
+     */
+    public void setHeaderArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType header)
+    {
+        generatedSetterHelperImpl(header, HEADER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "header" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType insertNewHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().insert_element_user(HEADER$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "header" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType addNewHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().add_element_user(HEADER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "header" element
+     */
+    public void removeHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HEADER$0, i);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  nameValueType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML nameValueType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class NameValueTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameValueTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "name");
+    private static final javax.xml.namespace.QName VALUE$2 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "value");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 111972721:
+                if (name.equals(VALUE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Gets the "value" element
+     */
+    public java.lang.String getValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "value" element
+     */
+    public org.apache.xmlbeans.XmlString xgetValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(VALUE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "value" element
+     */
+    public void setValue(java.lang.String value)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(VALUE$2);
+            }
+            target.setStringValue(value);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "value" element
+     */
+    public void xsetValue(org.apache.xmlbeans.XmlString value)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(VALUE$2);
+            }
+            target.set(value);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  nonNegativeInt
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML nonNegativeInt(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is an atomic type that is a restriction of org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt.
+ */
+public class NonNegativeIntImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NonNegativeIntImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected NonNegativeIntImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  nonZeroLengthString
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML nonZeroLengthString(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is an atomic type that is a restriction of org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString.
+ */
+public class NonZeroLengthStringImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NonZeroLengthStringImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected NonZeroLengthStringImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
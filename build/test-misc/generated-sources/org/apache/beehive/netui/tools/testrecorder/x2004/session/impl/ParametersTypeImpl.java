@@ -0,0 +1,143 @@
+/*
+ * XML Type:  parametersType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML parametersType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class ParametersTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ParametersTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PARAMETER$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "parameter");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1954460585:
+                if (name.equals(PARAMETER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "parameter" elements
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] getParameterArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PARAMETER$0, targetList);
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] result = new org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "parameter" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType getParameterArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().find_element_user(PARAMETER$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "parameter" element
+     */
+    public int sizeOfParameterArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PARAMETER$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "parameter" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setParameterArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType[] parameterArray)
+    {
+        check_orphaned();
+        arraySetterHelper(parameterArray, PARAMETER$0);
+    }
+    
+    /**
+     * Sets ith "parameter" element
+     */
+    public void setParameterArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType parameter)
+    {
+        generatedSetterHelperImpl(parameter, PARAMETER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "parameter" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType insertNewParameter(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().insert_element_user(PARAMETER$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "parameter" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType addNewParameter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NameValueType)get_store().add_element_user(PARAMETER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "parameter" element
+     */
+    public void removeParameter(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PARAMETER$0, i);
+        }
+    }
+}
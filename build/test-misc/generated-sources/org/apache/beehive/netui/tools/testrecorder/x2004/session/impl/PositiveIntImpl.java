@@ -0,0 +1,27 @@
+/*
+ * XML Type:  positiveInt
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML positiveInt(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is an atomic type that is a restriction of org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt.
+ */
+public class PositiveIntImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PositiveIntImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected PositiveIntImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,927 @@
+/*
+ * An XML document type.
+ * Localname: recorderSession
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * A document containing one recorderSession(@http://beehive.apache.org/netui/tools/testrecorder/2004/session) element.
+ *
+ * This is a complex type.
+ */
+public class RecorderSessionDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RecorderSessionDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RECORDERSESSION$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "recorderSession");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 138330104:
+                if (name.equals(RECORDERSESSION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "recorderSession" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession getRecorderSession()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession)get_store().find_element_user(RECORDERSESSION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "recorderSession" element
+     */
+    public void setRecorderSession(org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession recorderSession)
+    {
+        generatedSetterHelperImpl(recorderSession, RECORDERSESSION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "recorderSession" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession addNewRecorderSession()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession)get_store().add_element_user(RECORDERSESSION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML recorderSession(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+     *
+     * This is a complex type.
+     */
+    public static class RecorderSessionImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.RecorderSessionDocument.RecorderSession
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RecorderSessionImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName SESSIONNAME$0 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "sessionName");
+        private static final javax.xml.namespace.QName TESTER$2 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "tester");
+        private static final javax.xml.namespace.QName STARTDATE$4 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "startDate");
+        private static final javax.xml.namespace.QName DESCRIPTION$6 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "description");
+        private static final javax.xml.namespace.QName TESTS$8 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "tests");
+        private static final javax.xml.namespace.QName ENDDATE$10 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "endDate");
+        private static final javax.xml.namespace.QName SESSIONSTATUS$12 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "sessionStatus");
+        private static final javax.xml.namespace.QName TESTCOUNT$14 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "testCount");
+        private static final javax.xml.namespace.QName PASSEDCOUNT$16 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "passedCount");
+        private static final javax.xml.namespace.QName FAILEDCOUNT$18 = 
+            new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "failedCount");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(10);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -2129778896:
+                    if (name.equals(STARTDATE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case -2044365185:
+                    if (name.equals(PASSEDCOUNT$16))
+                        return ORDINAL$BASE + 8;
+                    break;
+                case -1724546052:
+                    if (name.equals(DESCRIPTION$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -1607727319:
+                    if (name.equals(ENDDATE$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case -1206114403:
+                    if (name.equals(TESTCOUNT$14))
+                        return ORDINAL$BASE + 7;
+                    break;
+                case -877169473:
+                    if (name.equals(TESTER$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -142576088:
+                    if (name.equals(SESSIONSTATUS$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case -22661567:
+                    if (name.equals(SESSIONNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 110251553:
+                    if (name.equals(TESTS$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 325184210:
+                    if (name.equals(FAILEDCOUNT$18))
+                        return ORDINAL$BASE + 9;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "sessionName" element
+         */
+        public java.lang.String getSessionName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "sessionName" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString xgetSessionName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString)get_store().find_element_user(SESSIONNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "sessionName" element
+         */
+        public void setSessionName(java.lang.String sessionName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SESSIONNAME$0);
+                }
+                target.setStringValue(sessionName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "sessionName" element
+         */
+        public void xsetSessionName(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString sessionName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString)get_store().find_element_user(SESSIONNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonZeroLengthString)get_store().add_element_user(SESSIONNAME$0);
+                }
+                target.set(sessionName);
+            }
+        }
+        
+        /**
+         * Gets the "tester" element
+         */
+        public java.lang.String getTester()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTER$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "tester" element
+         */
+        public org.apache.xmlbeans.XmlString xgetTester()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TESTER$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "tester" element
+         */
+        public void setTester(java.lang.String tester)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTER$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TESTER$2);
+                }
+                target.setStringValue(tester);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "tester" element
+         */
+        public void xsetTester(org.apache.xmlbeans.XmlString tester)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TESTER$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(TESTER$2);
+                }
+                target.set(tester);
+            }
+        }
+        
+        /**
+         * Gets the "startDate" element
+         */
+        public java.lang.String getStartDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STARTDATE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "startDate" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStartDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STARTDATE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "startDate" element
+         */
+        public void setStartDate(java.lang.String startDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STARTDATE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STARTDATE$4);
+                }
+                target.setStringValue(startDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "startDate" element
+         */
+        public void xsetStartDate(org.apache.xmlbeans.XmlString startDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STARTDATE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STARTDATE$4);
+                }
+                target.set(startDate);
+            }
+        }
+        
+        /**
+         * Gets the "description" element
+         */
+        public java.lang.String getDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "description" element
+         */
+        public org.apache.xmlbeans.XmlString xgetDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "description" element
+         */
+        public void setDescription(java.lang.String description)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTION$6);
+                }
+                target.setStringValue(description);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "description" element
+         */
+        public void xsetDescription(org.apache.xmlbeans.XmlString description)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DESCRIPTION$6);
+                }
+                target.set(description);
+            }
+        }
+        
+        /**
+         * Gets the "tests" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType getTests()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType)get_store().find_element_user(TESTS$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "tests" element
+         */
+        public void setTests(org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType tests)
+        {
+            generatedSetterHelperImpl(tests, TESTS$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "tests" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType addNewTests()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType)get_store().add_element_user(TESTS$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "endDate" element
+         */
+        public java.lang.String getEndDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENDDATE$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "endDate" element
+         */
+        public org.apache.xmlbeans.XmlString xgetEndDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ENDDATE$10, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "endDate" element
+         */
+        public void setEndDate(java.lang.String endDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENDDATE$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENDDATE$10);
+                }
+                target.setStringValue(endDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "endDate" element
+         */
+        public void xsetEndDate(org.apache.xmlbeans.XmlString endDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ENDDATE$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ENDDATE$10);
+                }
+                target.set(endDate);
+            }
+        }
+        
+        /**
+         * Gets the "sessionStatus" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum getSessionStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONSTATUS$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "sessionStatus" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType xgetSessionStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().find_element_user(SESSIONSTATUS$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "sessionStatus" element
+         */
+        public boolean isSetSessionStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SESSIONSTATUS$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "sessionStatus" element
+         */
+        public void setSessionStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum sessionStatus)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONSTATUS$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SESSIONSTATUS$12);
+                }
+                target.setEnumValue(sessionStatus);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "sessionStatus" element
+         */
+        public void xsetSessionStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType sessionStatus)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().find_element_user(SESSIONSTATUS$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().add_element_user(SESSIONSTATUS$12);
+                }
+                target.set(sessionStatus);
+            }
+        }
+        
+        /**
+         * Unsets the "sessionStatus" element
+         */
+        public void unsetSessionStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SESSIONSTATUS$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "testCount" element
+         */
+        public int getTestCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(TESTCOUNT$14, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTCOUNT$14, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testCount" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetTestCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(TESTCOUNT$14, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "testCount" element
+         */
+        public void setTestCount(int testCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTCOUNT$14, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TESTCOUNT$14);
+                }
+                target.setIntValue(testCount);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testCount" element
+         */
+        public void xsetTestCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt testCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(TESTCOUNT$14, 0);
+                if (target == null)
+                {
+                    target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().add_element_user(TESTCOUNT$14);
+                }
+                target.set(testCount);
+            }
+        }
+        
+        /**
+         * Gets the "passedCount" element
+         */
+        public int getPassedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(PASSEDCOUNT$16, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PASSEDCOUNT$16, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "passedCount" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt xgetPassedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().find_element_user(PASSEDCOUNT$16, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "passedCount" element
+         */
+        public boolean isSetPassedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(PASSEDCOUNT$16) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "passedCount" element
+         */
+        public void setPassedCount(int passedCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PASSEDCOUNT$16, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PASSEDCOUNT$16);
+                }
+                target.setIntValue(passedCount);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "passedCount" element
+         */
+        public void xsetPassedCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt passedCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().find_element_user(PASSEDCOUNT$16, 0);
+                if (target == null)
+                {
+                    target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().add_element_user(PASSEDCOUNT$16);
+                }
+                target.set(passedCount);
+            }
+        }
+        
+        /**
+         * Unsets the "passedCount" element
+         */
+        public void unsetPassedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(PASSEDCOUNT$16, 0);
+            }
+        }
+        
+        /**
+         * Gets the "failedCount" element
+         */
+        public int getFailedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(FAILEDCOUNT$18, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FAILEDCOUNT$18, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "failedCount" element
+         */
+        public org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt xgetFailedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().find_element_user(FAILEDCOUNT$18, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "failedCount" element
+         */
+        public boolean isSetFailedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FAILEDCOUNT$18) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "failedCount" element
+         */
+        public void setFailedCount(int failedCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FAILEDCOUNT$18, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FAILEDCOUNT$18);
+                }
+                target.setIntValue(failedCount);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "failedCount" element
+         */
+        public void xsetFailedCount(org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt failedCount)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt target = null;
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().find_element_user(FAILEDCOUNT$18, 0);
+                if (target == null)
+                {
+                    target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.NonNegativeInt)get_store().add_element_user(FAILEDCOUNT$18);
+                }
+                target.set(failedCount);
+            }
+        }
+        
+        /**
+         * Unsets the "failedCount" element
+         */
+        public void unsetFailedCount()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FAILEDCOUNT$18, 0);
+            }
+        }
+    }
+}
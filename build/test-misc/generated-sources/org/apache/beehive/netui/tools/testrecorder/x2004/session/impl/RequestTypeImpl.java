@@ -0,0 +1,628 @@
+/*
+ * XML Type:  requestType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML requestType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class RequestTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RequestTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PROTOCOL$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "protocol");
+    private static final javax.xml.namespace.QName PROTOCOLVERSION$2 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "protocolVersion");
+    private static final javax.xml.namespace.QName HOST$4 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "host");
+    private static final javax.xml.namespace.QName PORT$6 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "port");
+    private static final javax.xml.namespace.QName URI$8 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "uri");
+    private static final javax.xml.namespace.QName METHOD$10 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "method");
+    private static final javax.xml.namespace.QName PARAMETERS$12 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "parameters");
+    private static final javax.xml.namespace.QName COOKIES$14 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "cookies");
+    private static final javax.xml.namespace.QName HEADERS$16 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "headers");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(9);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1077554975:
+                if (name.equals(METHOD$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -989163880:
+                if (name.equals(PROTOCOL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 116076:
+                if (name.equals(URI$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3208616:
+                if (name.equals(HOST$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 3446913:
+                if (name.equals(PORT$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 458736106:
+                if (name.equals(PARAMETERS$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 795307910:
+                if (name.equals(HEADERS$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 952189583:
+                if (name.equals(COOKIES$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 1752828704:
+                if (name.equals(PROTOCOLVERSION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "protocol" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType.Enum getProtocol()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PROTOCOL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "protocol" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType xgetProtocol()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType)get_store().find_element_user(PROTOCOL$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "protocol" element
+     */
+    public void setProtocol(org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType.Enum protocol)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PROTOCOL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PROTOCOL$0);
+            }
+            target.setEnumValue(protocol);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "protocol" element
+     */
+    public void xsetProtocol(org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType protocol)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType)get_store().find_element_user(PROTOCOL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ProtocolType)get_store().add_element_user(PROTOCOL$0);
+            }
+            target.set(protocol);
+        }
+    }
+    
+    /**
+     * Gets the "protocolVersion" element
+     */
+    public java.lang.String getProtocolVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PROTOCOLVERSION$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "protocolVersion" element
+     */
+    public org.apache.xmlbeans.XmlString xgetProtocolVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PROTOCOLVERSION$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "protocolVersion" element
+     */
+    public void setProtocolVersion(java.lang.String protocolVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PROTOCOLVERSION$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PROTOCOLVERSION$2);
+            }
+            target.setStringValue(protocolVersion);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "protocolVersion" element
+     */
+    public void xsetProtocolVersion(org.apache.xmlbeans.XmlString protocolVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PROTOCOLVERSION$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(PROTOCOLVERSION$2);
+            }
+            target.set(protocolVersion);
+        }
+    }
+    
+    /**
+     * Gets the "host" element
+     */
+    public java.lang.String getHost()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOST$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "host" element
+     */
+    public org.apache.xmlbeans.XmlString xgetHost()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(HOST$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "host" element
+     */
+    public void setHost(java.lang.String host)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOST$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOST$4);
+            }
+            target.setStringValue(host);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "host" element
+     */
+    public void xsetHost(org.apache.xmlbeans.XmlString host)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(HOST$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(HOST$4);
+            }
+            target.set(host);
+        }
+    }
+    
+    /**
+     * Gets the "port" element
+     */
+    public int getPort()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(PORT$6, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PORT$6, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "port" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetPort()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(PORT$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "port" element
+     */
+    public void setPort(int port)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PORT$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PORT$6);
+            }
+            target.setIntValue(port);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "port" element
+     */
+    public void xsetPort(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt port)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(PORT$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().add_element_user(PORT$6);
+            }
+            target.set(port);
+        }
+    }
+    
+    /**
+     * Gets the "uri" element
+     */
+    public java.lang.String getUri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URI$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "uri" element
+     */
+    public org.apache.xmlbeans.XmlString xgetUri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(URI$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "uri" element
+     */
+    public void setUri(java.lang.String uri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URI$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(URI$8);
+            }
+            target.setStringValue(uri);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "uri" element
+     */
+    public void xsetUri(org.apache.xmlbeans.XmlString uri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(URI$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(URI$8);
+            }
+            target.set(uri);
+        }
+    }
+    
+    /**
+     * Gets the "method" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType.Enum getMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHOD$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "method" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType xgetMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType)get_store().find_element_user(METHOD$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "method" element
+     */
+    public void setMethod(org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType.Enum method)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHOD$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(METHOD$10);
+            }
+            target.setEnumValue(method);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "method" element
+     */
+    public void xsetMethod(org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType method)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType)get_store().find_element_user(METHOD$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.MethodType)get_store().add_element_user(METHOD$10);
+            }
+            target.set(method);
+        }
+    }
+    
+    /**
+     * Gets the "parameters" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType getParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType)get_store().find_element_user(PARAMETERS$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "parameters" element
+     */
+    public void setParameters(org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType parameters)
+    {
+        generatedSetterHelperImpl(parameters, PARAMETERS$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "parameters" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType addNewParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ParametersType)get_store().add_element_user(PARAMETERS$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "cookies" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType getCookies()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType)get_store().find_element_user(COOKIES$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "cookies" element
+     */
+    public void setCookies(org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType cookies)
+    {
+        generatedSetterHelperImpl(cookies, COOKIES$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "cookies" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType addNewCookies()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.CookiesType)get_store().add_element_user(COOKIES$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "headers" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType getHeaders()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType)get_store().find_element_user(HEADERS$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "headers" element
+     */
+    public void setHeaders(org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType headers)
+    {
+        generatedSetterHelperImpl(headers, HEADERS$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "headers" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType addNewHeaders()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.HeadersType)get_store().add_element_user(HEADERS$16);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * XML Type:  responseType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML responseType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class ResponseTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResponseTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STATUSCODE$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "statusCode");
+    private static final javax.xml.namespace.QName REASON$2 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "reason");
+    private static final javax.xml.namespace.QName RESPONSEBODY$4 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "responseBody");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -934964668:
+                if (name.equals(REASON$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 247507199:
+                if (name.equals(STATUSCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1438693763:
+                if (name.equals(RESPONSEBODY$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "statusCode" element
+     */
+    public int getStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(STATUSCODE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATUSCODE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "statusCode" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(STATUSCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "statusCode" element
+     */
+    public void setStatusCode(int statusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATUSCODE$0);
+            }
+            target.setIntValue(statusCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "statusCode" element
+     */
+    public void xsetStatusCode(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt statusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(STATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().add_element_user(STATUSCODE$0);
+            }
+            target.set(statusCode);
+        }
+    }
+    
+    /**
+     * Gets the "reason" element
+     */
+    public java.lang.String getReason()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REASON$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "reason" element
+     */
+    public org.apache.xmlbeans.XmlString xgetReason()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(REASON$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "reason" element
+     */
+    public void setReason(java.lang.String reason)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REASON$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REASON$2);
+            }
+            target.setStringValue(reason);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "reason" element
+     */
+    public void xsetReason(org.apache.xmlbeans.XmlString reason)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(REASON$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(REASON$2);
+            }
+            target.set(reason);
+        }
+    }
+    
+    /**
+     * Gets the "responseBody" element
+     */
+    public java.lang.String getResponseBody()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESPONSEBODY$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "responseBody" element
+     */
+    public org.apache.xmlbeans.XmlString xgetResponseBody()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RESPONSEBODY$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "responseBody" element
+     */
+    public void setResponseBody(java.lang.String responseBody)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESPONSEBODY$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESPONSEBODY$4);
+            }
+            target.setStringValue(responseBody);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "responseBody" element
+     */
+    public void xsetResponseBody(org.apache.xmlbeans.XmlString responseBody)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RESPONSEBODY$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(RESPONSEBODY$4);
+            }
+            target.set(responseBody);
+        }
+    }
+}
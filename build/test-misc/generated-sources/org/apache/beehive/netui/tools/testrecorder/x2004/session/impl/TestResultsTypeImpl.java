@@ -0,0 +1,108 @@
+/*
+ * XML Type:  testResultsType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML testResultsType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class TestResultsTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestResultsTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTSTATUS$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "testStatus");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1727253284:
+                if (name.equals(TESTSTATUS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "testStatus" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum getTestStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTSTATUS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testStatus" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType xgetTestStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().find_element_user(TESTSTATUS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "testStatus" element
+     */
+    public void setTestStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType.Enum testStatus)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTSTATUS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TESTSTATUS$0);
+            }
+            target.setEnumValue(testStatus);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testStatus" element
+     */
+    public void xsetTestStatus(org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType testStatus)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().find_element_user(TESTSTATUS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.StatusType)get_store().add_element_user(TESTSTATUS$0);
+            }
+            target.set(testStatus);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * XML Type:  testType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML testType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class TestTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTNUMBER$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "testNumber");
+    private static final javax.xml.namespace.QName REQUEST$2 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "request");
+    private static final javax.xml.namespace.QName RESPONSE$4 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "response");
+    private static final javax.xml.namespace.QName TESTRESULTS$6 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "testResults");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -340323263:
+                if (name.equals(RESPONSE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 704947972:
+                if (name.equals(TESTRESULTS$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1095692943:
+                if (name.equals(REQUEST$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1585370747:
+                if (name.equals(TESTNUMBER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "testNumber" element
+     */
+    public int getTestNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(TESTNUMBER$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTNUMBER$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testNumber" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt xgetTestNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(TESTNUMBER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "testNumber" element
+     */
+    public void setTestNumber(int testNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTNUMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TESTNUMBER$0);
+            }
+            target.setIntValue(testNumber);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testNumber" element
+     */
+    public void xsetTestNumber(org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt testNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().find_element_user(TESTNUMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.PositiveInt)get_store().add_element_user(TESTNUMBER$0);
+            }
+            target.set(testNumber);
+        }
+    }
+    
+    /**
+     * Gets the "request" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType getRequest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType)get_store().find_element_user(REQUEST$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "request" element
+     */
+    public void setRequest(org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType request)
+    {
+        generatedSetterHelperImpl(request, REQUEST$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "request" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType addNewRequest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.RequestType)get_store().add_element_user(REQUEST$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "response" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType getResponse()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType)get_store().find_element_user(RESPONSE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "response" element
+     */
+    public void setResponse(org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType response)
+    {
+        generatedSetterHelperImpl(response, RESPONSE$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "response" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType addNewResponse()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.ResponseType)get_store().add_element_user(RESPONSE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "testResults" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType getTestResults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType)get_store().find_element_user(TESTRESULTS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testResults" element
+     */
+    public boolean isSetTestResults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TESTRESULTS$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "testResults" element
+     */
+    public void setTestResults(org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType testResults)
+    {
+        generatedSetterHelperImpl(testResults, TESTRESULTS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "testResults" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType addNewTestResults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestResultsType)get_store().add_element_user(TESTRESULTS$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "testResults" element
+     */
+    public void unsetTestResults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TESTRESULTS$6, 0);
+        }
+    }
+}
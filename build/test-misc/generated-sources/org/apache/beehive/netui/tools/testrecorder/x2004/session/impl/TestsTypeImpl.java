@@ -0,0 +1,143 @@
+/*
+ * XML Type:  testsType
+ * Namespace: http://beehive.apache.org/netui/tools/testrecorder/2004/session
+ * Java type: org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.beehive.netui.tools.testrecorder.x2004.session.impl;
+/**
+ * An XML testsType(@http://beehive.apache.org/netui/tools/testrecorder/2004/session).
+ *
+ * This is a complex type.
+ */
+public class TestsTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.beehive.netui.tools.testrecorder.x2004.session.TestsType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestsTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://beehive.apache.org/netui/tools/testrecorder/2004/session", "test");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3556498:
+                if (name.equals(TEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "test" elements
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType[] getTestArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TEST$0, targetList);
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType[] result = new org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "test" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType getTestArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType)get_store().find_element_user(TEST$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "test" element
+     */
+    public int sizeOfTestArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TEST$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "test" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setTestArray(org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType[] testArray)
+    {
+        check_orphaned();
+        arraySetterHelper(testArray, TEST$0);
+    }
+    
+    /**
+     * Sets ith "test" element
+     */
+    public void setTestArray(int i, org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "test" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType insertNewTest(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType)get_store().insert_element_user(TEST$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "test" element
+     */
+    public org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType target = null;
+            target = (org.apache.beehive.netui.tools.testrecorder.x2004.session.TestType)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "test" element
+     */
+    public void removeTest(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TEST$0, i);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * XML Type:  testDatewTZone
+ * Namespace: urn:test-date-attribute
+ * Java type: testDateAttribute.TestDatewTZone
+ *
+ * Automatically generated - do not modify.
+ */
+package testDateAttribute;
+
+
+/**
+ * An XML testDatewTZone(@urn:test-date-attribute).
+ *
+ * This is an atomic type that is a restriction of testDateAttribute.TestDatewTZone.
+ */
+public interface TestDatewTZone extends org.apache.xmlbeans.XmlDate
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestDatewTZone.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testdatewtzone2a21type");
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static testDateAttribute.TestDatewTZone newValue(java.lang.Object obj) {
+          return (testDateAttribute.TestDatewTZone) type.newValue( obj ); }
+        
+        public static testDateAttribute.TestDatewTZone newInstance() {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static testDateAttribute.TestDatewTZone parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static testDateAttribute.TestDatewTZone parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static testDateAttribute.TestDatewTZone parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static testDateAttribute.TestDatewTZone parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static testDateAttribute.TestDatewTZone parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (testDateAttribute.TestDatewTZone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * An XML document type.
+ * Localname: TestElementWithDateAttribute
+ * Namespace: urn:test-date-attribute
+ * Java type: testDateAttribute.TestElementWithDateAttributeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package testDateAttribute;
+
+
+/**
+ * A document containing one TestElementWithDateAttribute(@urn:test-date-attribute) element.
+ *
+ * This is a complex type.
+ */
+public interface TestElementWithDateAttributeDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestElementWithDateAttributeDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testelementwithdateattributefca6doctype");
+    
+    /**
+     * Gets the "TestElementWithDateAttribute" element
+     */
+    testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute getTestElementWithDateAttribute();
+    
+    /**
+     * Sets the "TestElementWithDateAttribute" element
+     */
+    void setTestElementWithDateAttribute(testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute testElementWithDateAttribute);
+    
+    /**
+     * Appends and returns a new empty "TestElementWithDateAttribute" element
+     */
+    testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute addNewTestElementWithDateAttribute();
+    
+    /**
+     * An XML TestElementWithDateAttribute(@urn:test-date-attribute).
+     *
+     * This is a complex type.
+     */
+    public interface TestElementWithDateAttribute extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestElementWithDateAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("testelementwithdateattributec02celemtype");
+        
+        /**
+         * Gets the "SomeDate" attribute
+         */
+        java.util.Calendar getSomeDate();
+        
+        /**
+         * Gets (as xml) the "SomeDate" attribute
+         */
+        testDateAttribute.TestDatewTZone xgetSomeDate();
+        
+        /**
+         * Sets the "SomeDate" attribute
+         */
+        void setSomeDate(java.util.Calendar someDate);
+        
+        /**
+         * Sets (as xml) the "SomeDate" attribute
+         */
+        void xsetSomeDate(testDateAttribute.TestDatewTZone someDate);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute newInstance() {
+              return (testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static testDateAttribute.TestElementWithDateAttributeDocument newInstance() {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static testDateAttribute.TestElementWithDateAttributeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (testDateAttribute.TestElementWithDateAttributeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  testDatewTZone
+ * Namespace: urn:test-date-attribute
+ * Java type: testDateAttribute.TestDatewTZone
+ *
+ * Automatically generated - do not modify.
+ */
+package testDateAttribute.impl;
+/**
+ * An XML testDatewTZone(@urn:test-date-attribute).
+ *
+ * This is an atomic type that is a restriction of testDateAttribute.TestDatewTZone.
+ */
+public class TestDatewTZoneImpl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements testDateAttribute.TestDatewTZone
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDatewTZoneImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected TestDatewTZoneImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * An XML document type.
+ * Localname: TestElementWithDateAttribute
+ * Namespace: urn:test-date-attribute
+ * Java type: testDateAttribute.TestElementWithDateAttributeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package testDateAttribute.impl;
+/**
+ * A document containing one TestElementWithDateAttribute(@urn:test-date-attribute) element.
+ *
+ * This is a complex type.
+ */
+public class TestElementWithDateAttributeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements testDateAttribute.TestElementWithDateAttributeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestElementWithDateAttributeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTELEMENTWITHDATEATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("urn:test-date-attribute", "TestElementWithDateAttribute");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -679416162:
+                if (name.equals(TESTELEMENTWITHDATEATTRIBUTE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TestElementWithDateAttribute" element
+     */
+    public testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute getTestElementWithDateAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute target = null;
+            target = (testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute)get_store().find_element_user(TESTELEMENTWITHDATEATTRIBUTE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TestElementWithDateAttribute" element
+     */
+    public void setTestElementWithDateAttribute(testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute testElementWithDateAttribute)
+    {
+        generatedSetterHelperImpl(testElementWithDateAttribute, TESTELEMENTWITHDATEATTRIBUTE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TestElementWithDateAttribute" element
+     */
+    public testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute addNewTestElementWithDateAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute target = null;
+            target = (testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute)get_store().add_element_user(TESTELEMENTWITHDATEATTRIBUTE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML TestElementWithDateAttribute(@urn:test-date-attribute).
+     *
+     * This is a complex type.
+     */
+    public static class TestElementWithDateAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements testDateAttribute.TestElementWithDateAttributeDocument.TestElementWithDateAttribute
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestElementWithDateAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName SOMEDATE$0 = 
+            new javax.xml.namespace.QName("", "SomeDate");
+        
+        
+        /**
+         * Gets the "SomeDate" attribute
+         */
+        public java.util.Calendar getSomeDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SOMEDATE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SomeDate" attribute
+         */
+        public testDateAttribute.TestDatewTZone xgetSomeDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                testDateAttribute.TestDatewTZone target = null;
+                target = (testDateAttribute.TestDatewTZone)get_store().find_attribute_user(SOMEDATE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "SomeDate" attribute
+         */
+        public void setSomeDate(java.util.Calendar someDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SOMEDATE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SOMEDATE$0);
+                }
+                target.setCalendarValue(someDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SomeDate" attribute
+         */
+        public void xsetSomeDate(testDateAttribute.TestDatewTZone someDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                testDateAttribute.TestDatewTZone target = null;
+                target = (testDateAttribute.TestDatewTZone)get_store().find_attribute_user(SOMEDATE$0);
+                if (target == null)
+                {
+                    target = (testDateAttribute.TestDatewTZone)get_store().add_attribute_user(SOMEDATE$0);
+                }
+                target.set(someDate);
+            }
+        }
+    }
+}
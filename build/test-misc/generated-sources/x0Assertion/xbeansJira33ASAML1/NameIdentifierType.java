@@ -0,0 +1,156 @@
+/*
+ * XML Type:  NameIdentifierType
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.NameIdentifierType
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1;
+
+
+/**
+ * An XML NameIdentifierType(@urn:xbeans:jira_33a:SAML:1.0:assertion).
+ *
+ * This is an atomic type that is a restriction of x0Assertion.xbeansJira33ASAML1.NameIdentifierType.
+ */
+public interface NameIdentifierType extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(NameIdentifierType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("nameidentifiertype7f9btype");
+    
+    /**
+     * Gets the "NameQualifier" attribute
+     */
+    java.lang.String getNameQualifier();
+    
+    /**
+     * Gets (as xml) the "NameQualifier" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetNameQualifier();
+    
+    /**
+     * True if has "NameQualifier" attribute
+     */
+    boolean isSetNameQualifier();
+    
+    /**
+     * Sets the "NameQualifier" attribute
+     */
+    void setNameQualifier(java.lang.String nameQualifier);
+    
+    /**
+     * Sets (as xml) the "NameQualifier" attribute
+     */
+    void xsetNameQualifier(org.apache.xmlbeans.XmlString nameQualifier);
+    
+    /**
+     * Unsets the "NameQualifier" attribute
+     */
+    void unsetNameQualifier();
+    
+    /**
+     * Gets the "Format" attribute
+     */
+    java.lang.String getFormat();
+    
+    /**
+     * Gets (as xml) the "Format" attribute
+     */
+    org.apache.xmlbeans.XmlAnyURI xgetFormat();
+    
+    /**
+     * True if has "Format" attribute
+     */
+    boolean isSetFormat();
+    
+    /**
+     * Sets the "Format" attribute
+     */
+    void setFormat(java.lang.String format);
+    
+    /**
+     * Sets (as xml) the "Format" attribute
+     */
+    void xsetFormat(org.apache.xmlbeans.XmlAnyURI format);
+    
+    /**
+     * Unsets the "Format" attribute
+     */
+    void unsetFormat();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType newInstance() {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static x0Assertion.xbeansJira33ASAML1.NameIdentifierType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (x0Assertion.xbeansJira33ASAML1.NameIdentifierType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
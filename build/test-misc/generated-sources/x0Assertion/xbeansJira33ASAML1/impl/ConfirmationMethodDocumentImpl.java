@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ConfirmationMethod
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.ConfirmationMethodDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * A document containing one ConfirmationMethod(@urn:xbeans:jira_33a:SAML:1.0:assertion) element.
+ *
+ * This is a complex type.
+ */
+public class ConfirmationMethodDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.ConfirmationMethodDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConfirmationMethodDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONFIRMATIONMETHOD$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "ConfirmationMethod");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2120332906:
+                if (name.equals(CONFIRMATIONMETHOD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ConfirmationMethod" element
+     */
+    public java.lang.String getConfirmationMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIRMATIONMETHOD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ConfirmationMethod" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetConfirmationMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(CONFIRMATIONMETHOD$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ConfirmationMethod" element
+     */
+    public void setConfirmationMethod(java.lang.String confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIRMATIONMETHOD$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONFIRMATIONMETHOD$0);
+            }
+            target.setStringValue(confirmationMethod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ConfirmationMethod" element
+     */
+    public void xsetConfirmationMethod(org.apache.xmlbeans.XmlAnyURI confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(CONFIRMATIONMETHOD$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_element_user(CONFIRMATIONMETHOD$0);
+            }
+            target.set(confirmationMethod);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: NameIdentifier
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.NameIdentifierDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * A document containing one NameIdentifier(@urn:xbeans:jira_33a:SAML:1.0:assertion) element.
+ *
+ * This is a complex type.
+ */
+public class NameIdentifierDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.NameIdentifierDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameIdentifierDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEIDENTIFIER$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "NameIdentifier");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1282497972:
+                if (name.equals(NAMEIDENTIFIER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType getNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().find_element_user(NAMEIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NameIdentifier" element
+     */
+    public void setNameIdentifier(x0Assertion.xbeansJira33ASAML1.NameIdentifierType nameIdentifier)
+    {
+        generatedSetterHelperImpl(nameIdentifier, NAMEIDENTIFIER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType addNewNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().add_element_user(NAMEIDENTIFIER$0);
+            return target;
+        }
+    }
+}
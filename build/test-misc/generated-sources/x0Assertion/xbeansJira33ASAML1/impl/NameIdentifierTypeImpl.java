@@ -0,0 +1,217 @@
+/*
+ * XML Type:  NameIdentifierType
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.NameIdentifierType
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * An XML NameIdentifierType(@urn:xbeans:jira_33a:SAML:1.0:assertion).
+ *
+ * This is an atomic type that is a restriction of x0Assertion.xbeansJira33ASAML1.NameIdentifierType.
+ */
+public class NameIdentifierTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements x0Assertion.xbeansJira33ASAML1.NameIdentifierType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameIdentifierTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected NameIdentifierTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEQUALIFIER$0 = 
+        new javax.xml.namespace.QName("", "NameQualifier");
+    private static final javax.xml.namespace.QName FORMAT$2 = 
+        new javax.xml.namespace.QName("", "Format");
+    
+    
+    /**
+     * Gets the "NameQualifier" attribute
+     */
+    public java.lang.String getNameQualifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMEQUALIFIER$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NameQualifier" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetNameQualifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAMEQUALIFIER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "NameQualifier" attribute
+     */
+    public boolean isSetNameQualifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAMEQUALIFIER$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "NameQualifier" attribute
+     */
+    public void setNameQualifier(java.lang.String nameQualifier)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMEQUALIFIER$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAMEQUALIFIER$0);
+            }
+            target.setStringValue(nameQualifier);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NameQualifier" attribute
+     */
+    public void xsetNameQualifier(org.apache.xmlbeans.XmlString nameQualifier)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAMEQUALIFIER$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAMEQUALIFIER$0);
+            }
+            target.set(nameQualifier);
+        }
+    }
+    
+    /**
+     * Unsets the "NameQualifier" attribute
+     */
+    public void unsetNameQualifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAMEQUALIFIER$0);
+        }
+    }
+    
+    /**
+     * Gets the "Format" attribute
+     */
+    public java.lang.String getFormat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FORMAT$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Format" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetFormat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FORMAT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "Format" attribute
+     */
+    public boolean isSetFormat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(FORMAT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "Format" attribute
+     */
+    public void setFormat(java.lang.String format)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FORMAT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FORMAT$2);
+            }
+            target.setStringValue(format);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Format" attribute
+     */
+    public void xsetFormat(org.apache.xmlbeans.XmlAnyURI format)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FORMAT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(FORMAT$2);
+            }
+            target.set(format);
+        }
+    }
+    
+    /**
+     * Unsets the "Format" attribute
+     */
+    public void unsetFormat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(FORMAT$2);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SubjectConfirmationData
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.SubjectConfirmationDataDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * A document containing one SubjectConfirmationData(@urn:xbeans:jira_33a:SAML:1.0:assertion) element.
+ *
+ * This is a complex type.
+ */
+public class SubjectConfirmationDataDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.SubjectConfirmationDataDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectConfirmationDataDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBJECTCONFIRMATIONDATA$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "SubjectConfirmationData");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1042769579:
+                if (name.equals(SUBJECTCONFIRMATIONDATA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SubjectConfirmationData" element
+     */
+    public org.apache.xmlbeans.XmlObject getSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(SUBJECTCONFIRMATIONDATA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SubjectConfirmationData" element
+     */
+    public void setSubjectConfirmationData(org.apache.xmlbeans.XmlObject subjectConfirmationData)
+    {
+        generatedSetterHelperImpl(subjectConfirmationData, SUBJECTCONFIRMATIONDATA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SubjectConfirmationData" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(SUBJECTCONFIRMATIONDATA$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SubjectConfirmation
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.SubjectConfirmationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * A document containing one SubjectConfirmation(@urn:xbeans:jira_33a:SAML:1.0:assertion) element.
+ *
+ * This is a complex type.
+ */
+public class SubjectConfirmationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.SubjectConfirmationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectConfirmationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBJECTCONFIRMATION$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "SubjectConfirmation");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 854956897:
+                if (name.equals(SUBJECTCONFIRMATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SubjectConfirmation" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType getSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType)get_store().find_element_user(SUBJECTCONFIRMATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SubjectConfirmation" element
+     */
+    public void setSubjectConfirmation(x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType subjectConfirmation)
+    {
+        generatedSetterHelperImpl(subjectConfirmation, SUBJECTCONFIRMATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SubjectConfirmation" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType addNewSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType)get_store().add_element_user(SUBJECTCONFIRMATION$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * XML Type:  SubjectConfirmationType
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * An XML SubjectConfirmationType(@urn:xbeans:jira_33a:SAML:1.0:assertion).
+ *
+ * This is a complex type.
+ */
+public class SubjectConfirmationTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectConfirmationTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONFIRMATIONMETHOD$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "ConfirmationMethod");
+    private static final javax.xml.namespace.QName SUBJECTCONFIRMATIONDATA$2 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "SubjectConfirmationData");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2120332906:
+                if (name.equals(CONFIRMATIONMETHOD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1042769579:
+                if (name.equals(SUBJECTCONFIRMATIONDATA$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "ConfirmationMethod" elements
+     */
+    public java.lang.String[] getConfirmationMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONFIRMATIONMETHOD$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ConfirmationMethod" element
+     */
+    public java.lang.String getConfirmationMethodArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIRMATIONMETHOD$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "ConfirmationMethod" elements
+     */
+    public org.apache.xmlbeans.XmlAnyURI[] xgetConfirmationMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONFIRMATIONMETHOD$0, targetList);
+            org.apache.xmlbeans.XmlAnyURI[] result = new org.apache.xmlbeans.XmlAnyURI[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "ConfirmationMethod" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetConfirmationMethodArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(CONFIRMATIONMETHOD$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ConfirmationMethod" element
+     */
+    public int sizeOfConfirmationMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONFIRMATIONMETHOD$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "ConfirmationMethod" element
+     */
+    public void setConfirmationMethodArray(java.lang.String[] confirmationMethodArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(confirmationMethodArray, CONFIRMATIONMETHOD$0);
+        }
+    }
+    
+    /**
+     * Sets ith "ConfirmationMethod" element
+     */
+    public void setConfirmationMethodArray(int i, java.lang.String confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIRMATIONMETHOD$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(confirmationMethod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "ConfirmationMethod" element
+     */
+    public void xsetConfirmationMethodArray(org.apache.xmlbeans.XmlAnyURI[]confirmationMethodArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(confirmationMethodArray, CONFIRMATIONMETHOD$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "ConfirmationMethod" element
+     */
+    public void xsetConfirmationMethodArray(int i, org.apache.xmlbeans.XmlAnyURI confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(CONFIRMATIONMETHOD$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(confirmationMethod);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "ConfirmationMethod" element
+     */
+    public void insertConfirmationMethod(int i, java.lang.String confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(CONFIRMATIONMETHOD$0, i);
+            target.setStringValue(confirmationMethod);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "ConfirmationMethod" element
+     */
+    public void addConfirmationMethod(java.lang.String confirmationMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONFIRMATIONMETHOD$0);
+            target.setStringValue(confirmationMethod);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ConfirmationMethod" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI insertNewConfirmationMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().insert_element_user(CONFIRMATIONMETHOD$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ConfirmationMethod" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI addNewConfirmationMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_element_user(CONFIRMATIONMETHOD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ConfirmationMethod" element
+     */
+    public void removeConfirmationMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONFIRMATIONMETHOD$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "SubjectConfirmationData" element
+     */
+    public org.apache.xmlbeans.XmlObject getSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(SUBJECTCONFIRMATIONDATA$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "SubjectConfirmationData" element
+     */
+    public boolean isSetSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SUBJECTCONFIRMATIONDATA$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "SubjectConfirmationData" element
+     */
+    public void setSubjectConfirmationData(org.apache.xmlbeans.XmlObject subjectConfirmationData)
+    {
+        generatedSetterHelperImpl(subjectConfirmationData, SUBJECTCONFIRMATIONDATA$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SubjectConfirmationData" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(SUBJECTCONFIRMATIONDATA$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "SubjectConfirmationData" element
+     */
+    public void unsetSubjectConfirmationData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SUBJECTCONFIRMATIONDATA$2, 0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Subject
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.SubjectDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * A document containing one Subject(@urn:xbeans:jira_33a:SAML:1.0:assertion) element.
+ *
+ * This is a complex type.
+ */
+public class SubjectDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.SubjectDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBJECT$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "Subject");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -203231988:
+                if (name.equals(SUBJECT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Subject" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectType getSubject()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectType)get_store().find_element_user(SUBJECT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Subject" element
+     */
+    public void setSubject(x0Assertion.xbeansJira33ASAML1.SubjectType subject)
+    {
+        generatedSetterHelperImpl(subject, SUBJECT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Subject" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectType addNewSubject()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectType)get_store().add_element_user(SUBJECT$0);
+            return target;
+        }
+    }
+}
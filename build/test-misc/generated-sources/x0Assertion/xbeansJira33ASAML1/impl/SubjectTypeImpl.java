@@ -0,0 +1,174 @@
+/*
+ * XML Type:  SubjectType
+ * Namespace: urn:xbeans:jira_33a:SAML:1.0:assertion
+ * Java type: x0Assertion.xbeansJira33ASAML1.SubjectType
+ *
+ * Automatically generated - do not modify.
+ */
+package x0Assertion.xbeansJira33ASAML1.impl;
+/**
+ * An XML SubjectType(@urn:xbeans:jira_33a:SAML:1.0:assertion).
+ *
+ * This is a complex type.
+ */
+public class SubjectTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements x0Assertion.xbeansJira33ASAML1.SubjectType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEIDENTIFIER$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "NameIdentifier");
+    private static final javax.xml.namespace.QName SUBJECTCONFIRMATION$2 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira_33a:SAML:1.0:assertion", "SubjectConfirmation");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 854956897:
+                if (name.equals(SUBJECTCONFIRMATION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1282497972:
+                if (name.equals(NAMEIDENTIFIER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType getNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().find_element_user(NAMEIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "NameIdentifier" element
+     */
+    public boolean isSetNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NAMEIDENTIFIER$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "NameIdentifier" element
+     */
+    public void setNameIdentifier(x0Assertion.xbeansJira33ASAML1.NameIdentifierType nameIdentifier)
+    {
+        generatedSetterHelperImpl(nameIdentifier, NAMEIDENTIFIER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType addNewNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().add_element_user(NAMEIDENTIFIER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "NameIdentifier" element
+     */
+    public void unsetNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NAMEIDENTIFIER$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "SubjectConfirmation" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType getSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType)get_store().find_element_user(SUBJECTCONFIRMATION$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "SubjectConfirmation" element
+     */
+    public boolean isSetSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SUBJECTCONFIRMATION$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "SubjectConfirmation" element
+     */
+    public void setSubjectConfirmation(x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType subjectConfirmation)
+    {
+        generatedSetterHelperImpl(subjectConfirmation, SUBJECTCONFIRMATION$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SubjectConfirmation" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType addNewSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.SubjectConfirmationType)get_store().add_element_user(SUBJECTCONFIRMATION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "SubjectConfirmation" element
+     */
+    public void unsetSubjectConfirmation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SUBJECTCONFIRMATION$2, 0);
+        }
+    }
+}
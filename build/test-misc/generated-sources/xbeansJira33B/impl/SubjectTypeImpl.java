@@ -0,0 +1,80 @@
+/*
+ * XML Type:  SubjectType
+ * Namespace: urn:xbeans:jira33b
+ * Java type: xbeansJira33B.SubjectType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbeansJira33B.impl;
+/**
+ * An XML SubjectType(@urn:xbeans:jira33b).
+ *
+ * This is a complex type.
+ */
+public class SubjectTypeImpl extends x0Assertion.xbeansJira33ASAML1.impl.SubjectTypeImpl implements xbeansJira33B.SubjectType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubjectTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName IDPPROVIDEDNAMEIDENTIFIER$0 = 
+        new javax.xml.namespace.QName("urn:xbeans:jira33b", "IDPProvidedNameIdentifier");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 976245580:
+                if (name.equals(IDPPROVIDEDNAMEIDENTIFIER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "IDPProvidedNameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType getIDPProvidedNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().find_element_user(IDPPROVIDEDNAMEIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "IDPProvidedNameIdentifier" element
+     */
+    public void setIDPProvidedNameIdentifier(x0Assertion.xbeansJira33ASAML1.NameIdentifierType idpProvidedNameIdentifier)
+    {
+        generatedSetterHelperImpl(idpProvidedNameIdentifier, IDPPROVIDEDNAMEIDENTIFIER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "IDPProvidedNameIdentifier" element
+     */
+    public x0Assertion.xbeansJira33ASAML1.NameIdentifierType addNewIDPProvidedNameIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            x0Assertion.xbeansJira33ASAML1.NameIdentifierType target = null;
+            target = (x0Assertion.xbeansJira33ASAML1.NameIdentifierType)get_store().add_element_user(IDPPROVIDEDNAMEIDENTIFIER$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: GlobalMoreThanElement
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.GlobalMoreThanElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307;
+
+
+/**
+ * A document containing one GlobalMoreThanElement(@http://XMLBEANS-307) element.
+ *
+ * This is a complex type.
+ */
+public interface GlobalMoreThanElementDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalMoreThanElementDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("globalmorethanelementb975doctype");
+    
+    /**
+     * Gets the "GlobalMoreThanElement" element
+     */
+    java.lang.String getGlobalMoreThanElement();
+    
+    /**
+     * Gets (as xml) the "GlobalMoreThanElement" element
+     */
+    xmlbeans307.MoreThanAllowedEnumType xgetGlobalMoreThanElement();
+    
+    /**
+     * Sets the "GlobalMoreThanElement" element
+     */
+    void setGlobalMoreThanElement(java.lang.String globalMoreThanElement);
+    
+    /**
+     * Sets (as xml) the "GlobalMoreThanElement" element
+     */
+    void xsetGlobalMoreThanElement(xmlbeans307.MoreThanAllowedEnumType globalMoreThanElement);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlbeans307.GlobalMoreThanElementDocument newInstance() {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.GlobalMoreThanElementDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.GlobalMoreThanElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,14807 @@
+/*
+ * XML Type:  MaxAllowedEnumType
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MaxAllowedEnumType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307;
+
+
+/**
+ * An XML MaxAllowedEnumType(@http://XMLBEANS-307).
+ *
+ * This is an atomic type that is a restriction of xmlbeans307.MaxAllowedEnumType.
+ */
+public interface MaxAllowedEnumType extends org.apache.xmlbeans.XmlToken
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MaxAllowedEnumType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("maxallowedenumtype69f3type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum AAPX = Enum.forString("AAPX");
+    static final Enum AARD = Enum.forString("AARD");
+    static final Enum AATM = Enum.forString("AATM");
+    static final Enum AATS = Enum.forString("AATS");
+    static final Enum AAWL = Enum.forString("AAWL");
+    static final Enum AAWS = Enum.forString("AAWS");
+    static final Enum ABAR = Enum.forString("ABAR");
+    static final Enum ABBO = Enum.forString("ABBO");
+    static final Enum ABC = Enum.forString("ABC");
+    static final Enum ABCC = Enum.forString("ABCC");
+    static final Enum ABCH = Enum.forString("ABCH");
+    static final Enum ABCO = Enum.forString("ABCO");
+    static final Enum ABER = Enum.forString("ABER");
+    static final Enum ABFI = Enum.forString("ABFI");
+    static final Enum ABIA = Enum.forString("ABIA");
+    static final Enum ABTM = Enum.forString("ABTM");
+    static final Enum ABTR = Enum.forString("ABTR");
+    static final Enum AC = Enum.forString("AC");
+    static final Enum ACAD = Enum.forString("ACAD");
+    static final Enum ACAE = Enum.forString("ACAE");
+    static final Enum ACAI = Enum.forString("ACAI");
+    static final Enum ACCU = Enum.forString("ACCU");
+    static final Enum ACE = Enum.forString("ACE");
+    static final Enum ACEC = Enum.forString("ACEC");
+    static final Enum ACEE = Enum.forString("ACEE");
+    static final Enum ACKN = Enum.forString("ACKN");
+    static final Enum ACME = Enum.forString("ACME");
+    static final Enum ACMM = Enum.forString("ACMM");
+    static final Enum ACOR = Enum.forString("ACOR");
+    static final Enum ACRO = Enum.forString("ACRO");
+    static final Enum ACTD = Enum.forString("ACTD");
+    static final Enum ACTE = Enum.forString("ACTE");
+    static final Enum ACTO = Enum.forString("ACTO");
+    static final Enum ACUR = Enum.forString("ACUR");
+    static final Enum ADA = Enum.forString("ADA");
+    static final Enum ADBV = Enum.forString("ADBV");
+    static final Enum ADDI = Enum.forString("ADDI");
+    static final Enum ADET = Enum.forString("ADET");
+    static final Enum ADLR = Enum.forString("ADLR");
+    static final Enum ADMI = Enum.forString("ADMI");
+    static final Enum ADMS = Enum.forString("ADMS");
+    static final Enum ADMT = Enum.forString("ADMT");
+    static final Enum ADSP = Enum.forString("ADSP");
+    static final Enum ADVA = Enum.forString("ADVA");
+    static final Enum ADVE = Enum.forString("ADVE");
+    static final Enum ADVN = Enum.forString("ADVN");
+    static final Enum ADVS = Enum.forString("ADVS");
+    static final Enum AEAG = Enum.forString("AEAG");
+    static final Enum AELI = Enum.forString("AELI");
+    static final Enum AERA = Enum.forString("AERA");
+    static final Enum AERG = Enum.forString("AERG");
+    static final Enum AERI = Enum.forString("AERI");
+    static final Enum AERO = Enum.forString("AERO");
+    static final Enum AETA = Enum.forString("AETA");
+    static final Enum AGCH = Enum.forString("AGCH");
+    static final Enum AGCO = Enum.forString("AGCO");
+    static final Enum AGDC = Enum.forString("AGDC");
+    static final Enum AGRA = Enum.forString("AGRA");
+    static final Enum AGRI = Enum.forString("AGRI");
+    static final Enum AGRO = Enum.forString("AGRO");
+    static final Enum AGSY = Enum.forString("AGSY");
+    static final Enum AGTR = Enum.forString("AGTR");
+    static final Enum AGYL = Enum.forString("AGYL");
+    static final Enum AIH = Enum.forString("AIH");
+    static final Enum AIRC = Enum.forString("AIRC");
+    static final Enum AIRE = Enum.forString("AIRE");
+    static final Enum AIRF = Enum.forString("AIRF");
+    static final Enum AIRI = Enum.forString("AIRI");
+    static final Enum AIRM = Enum.forString("AIRM");
+    static final Enum AIRO = Enum.forString("AIRO");
+    static final Enum AIRP = Enum.forString("AIRP");
+    static final Enum AIRS = Enum.forString("AIRS");
+    static final Enum AJAX = Enum.forString("AJAX");
+    static final Enum AJIN = Enum.forString("AJIN");
+    static final Enum AJS = Enum.forString("AJS");
+    static final Enum AJTR = Enum.forString("AJTR");
+    static final Enum AJW = Enum.forString("AJW");
+    static final Enum AJXE = Enum.forString("AJXE");
+    static final Enum ALAB = Enum.forString("ALAB");
+    static final Enum ALAD = Enum.forString("ALAD");
+    static final Enum ALAI = Enum.forString("ALAI");
+    static final Enum ALAR = Enum.forString("ALAR");
+    static final Enum ALAS = Enum.forString("ALAS");
+    static final Enum ALBE = Enum.forString("ALBE");
+    static final Enum ALCA = Enum.forString("ALCA");
+    static final Enum ALCI = Enum.forString("ALCI");
+    static final Enum ALCO = Enum.forString("ALCO");
+    static final Enum ALED = Enum.forString("ALED");
+    static final Enum ALEN = Enum.forString("ALEN");
+    static final Enum ALEX = Enum.forString("ALEX");
+    static final Enum ALFA = Enum.forString("ALFA");
+    static final Enum ALFB = Enum.forString("ALFB");
+    static final Enum ALFO = Enum.forString("ALFO");
+    static final Enum ALIE = Enum.forString("ALIE");
+    static final Enum ALIS = Enum.forString("ALIS");
+    static final Enum ALJO = Enum.forString("ALJO");
+    static final Enum ALKO = Enum.forString("ALKO");
+    static final Enum ALL = Enum.forString("ALL");
+    static final Enum ALLA = Enum.forString("ALLA");
+    static final Enum ALLB = Enum.forString("ALLB");
+    static final Enum ALLC = Enum.forString("ALLC");
+    static final Enum ALLD = Enum.forString("ALLD");
+    static final Enum ALLE = Enum.forString("ALLE");
+    static final Enum ALLF = Enum.forString("ALLF");
+    static final Enum ALLI = Enum.forString("ALLI");
+    static final Enum ALLK = Enum.forString("ALLK");
+    static final Enum ALLL = Enum.forString("ALLL");
+    static final Enum ALLM = Enum.forString("ALLM");
+    static final Enum ALLN = Enum.forString("ALLN");
+    static final Enum ALLO = Enum.forString("ALLO");
+    static final Enum ALLP = Enum.forString("ALLP");
+    static final Enum ALLR = Enum.forString("ALLR");
+    static final Enum ALLS = Enum.forString("ALLS");
+    static final Enum ALLT = Enum.forString("ALLT");
+    static final Enum ALLU = Enum.forString("ALLU");
+    static final Enum ALLW = Enum.forString("ALLW");
+    static final Enum ALMA = Enum.forString("ALMA");
+    static final Enum ALMC = Enum.forString("ALMC");
+    static final Enum ALMD = Enum.forString("ALMD");
+    static final Enum ALME = Enum.forString("ALME");
+    static final Enum ALMI = Enum.forString("ALMI");
+    static final Enum ALMN = Enum.forString("ALMN");
+    static final Enum ALNM = Enum.forString("ALNM");
+    static final Enum ALOH = Enum.forString("ALOH");
+    static final Enum ALOU = Enum.forString("ALOU");
+    static final Enum ALPF = Enum.forString("ALPF");
+    static final Enum ALPH = Enum.forString("ALPH");
+    static final Enum ALPI = Enum.forString("ALPI");
+    static final Enum ALSE = Enum.forString("ALSE");
+    static final Enum ALSP = Enum.forString("ALSP");
+    static final Enum ALST = Enum.forString("ALST");
+    static final Enum ALTA = Enum.forString("ALTA");
+    static final Enum ALTC = Enum.forString("ALTC");
+    static final Enum ALTE = Enum.forString("ALTE");
+    static final Enum ALUC = Enum.forString("ALUC");
+    static final Enum ALUE = Enum.forString("ALUE");
+    static final Enum ALUM = Enum.forString("ALUM");
+    static final Enum ALUT = Enum.forString("ALUT");
+    static final Enum ALVI = Enum.forString("ALVI");
+    static final Enum ALWY = Enum.forString("ALWY");
+    static final Enum ALYT = Enum.forString("ALYT");
+    static final Enum AM = Enum.forString("AM");
+    static final Enum AMAU = Enum.forString("AMAU");
+    static final Enum AMBA = Enum.forString("AMBA");
+    static final Enum AMC = Enum.forString("AMC");
+    static final Enum AMCC = Enum.forString("AMCC");
+    static final Enum AMCM = Enum.forString("AMCM");
+    static final Enum AMCO = Enum.forString("AMCO");
+    static final Enum AMCP = Enum.forString("AMCP");
+    static final Enum AMCR = Enum.forString("AMCR");
+    static final Enum AMDB = Enum.forString("AMDB");
+    static final Enum AMDI = Enum.forString("AMDI");
+    static final Enum AME = Enum.forString("AME");
+    static final Enum AMEA = Enum.forString("AMEA");
+    static final Enum AMEB = Enum.forString("AMEB");
+    static final Enum AMEC = Enum.forString("AMEC");
+    static final Enum AMED = Enum.forString("AMED");
+    static final Enum AMEE = Enum.forString("AMEE");
+    static final Enum AMEH = Enum.forString("AMEH");
+    static final Enum AMEI = Enum.forString("AMEI");
+    static final Enum AMEL = Enum.forString("AMEL");
+    static final Enum AMEM = Enum.forString("AMEM");
+    static final Enum AMEN = Enum.forString("AMEN");
+    static final Enum AMEP = Enum.forString("AMEP");
+    static final Enum AMER = Enum.forString("AMER");
+    static final Enum AMES = Enum.forString("AMES");
+    static final Enum AMET = Enum.forString("AMET");
+    static final Enum AMF = Enum.forString("AMF");
+    static final Enum AMFA = Enum.forString("AMFA");
+    static final Enum AMGN = Enum.forString("AMGN");
+    static final Enum AMHL = Enum.forString("AMHL");
+    static final Enum AMHO = Enum.forString("AMHO");
+    static final Enum AMI = Enum.forString("AMI");
+    static final Enum AMIN = Enum.forString("AMIN");
+    static final Enum AMJE = Enum.forString("AMJE");
+    static final Enum AMLF = Enum.forString("AMLF");
+    static final Enum AMMA = Enum.forString("AMMA");
+    static final Enum AMME = Enum.forString("AMME");
+    static final Enum AMPC = Enum.forString("AMPC");
+    static final Enum AMPF = Enum.forString("AMPF");
+    static final Enum AMPH = Enum.forString("AMPH");
+    static final Enum AMPT = Enum.forString("AMPT");
+    static final Enum AMQT = Enum.forString("AMQT");
+    static final Enum AMRC = Enum.forString("AMRC");
+    static final Enum AMRD = Enum.forString("AMRD");
+    static final Enum AMRI = Enum.forString("AMRI");
+    static final Enum AMRO = Enum.forString("AMRO");
+    static final Enum AMSW = Enum.forString("AMSW");
+    static final Enum AMT = Enum.forString("AMT");
+    static final Enum AMTC = Enum.forString("AMTC");
+    static final Enum AMTN = Enum.forString("AMTN");
+    static final Enum AMTR = Enum.forString("AMTR");
+    static final Enum AMTS = Enum.forString("AMTS");
+    static final Enum AMYP = Enum.forString("AMYP");
+    static final Enum ANAL = Enum.forString("ANAL");
+    static final Enum ANCH = Enum.forString("ANCH");
+    static final Enum ANDE = Enum.forString("ANDE");
+    static final Enum ANDH = Enum.forString("ANDH");
+    static final Enum ANDI = Enum.forString("ANDI");
+    static final Enum ANDM = Enum.forString("ANDM");
+    static final Enum ANDR = Enum.forString("ANDR");
+    static final Enum ANDS = Enum.forString("ANDS");
+    static final Enum ANGE = Enum.forString("ANGE");
+    static final Enum ANGL = Enum.forString("ANGL");
+    static final Enum ANTH = Enum.forString("ANTH");
+    static final Enum ANTO = Enum.forString("ANTO");
+    static final Enum AOKT = Enum.forString("AOKT");
+    static final Enum AONE = Enum.forString("AONE");
+    static final Enum APAC = Enum.forString("APAC");
+    static final Enum APAE = Enum.forString("APAE");
+    static final Enum APAH = Enum.forString("APAH");
+    static final Enum APEC = Enum.forString("APEC");
+    static final Enum APEX = Enum.forString("APEX");
+    static final Enum APLE = Enum.forString("APLE");
+    static final Enum APOL = Enum.forString("APOL");
+    static final Enum APPA = Enum.forString("APPA");
+    static final Enum APPL = Enum.forString("APPL");
+    static final Enum APRI = Enum.forString("APRI");
+    static final Enum AQCR = Enum.forString("AQCR");
+    static final Enum AQUA = Enum.forString("AQUA");
+    static final Enum AQUT = Enum.forString("AQUT");
+    static final Enum ARAB = Enum.forString("ARAB");
+    static final Enum ARCA = Enum.forString("ARCA");
+    static final Enum ARCC = Enum.forString("ARCC");
+    static final Enum ARCO = Enum.forString("ARCO");
+    static final Enum ARCT = Enum.forString("ARCT");
+    static final Enum AREC = Enum.forString("AREC");
+    static final Enum ARGG = Enum.forString("ARGG");
+    static final Enum ARGO = Enum.forString("ARGO");
+    static final Enum ARGS = Enum.forString("ARGS");
+    static final Enum ARIC = Enum.forString("ARIC");
+    static final Enum ARIE = Enum.forString("ARIE");
+    static final Enum ARII = Enum.forString("ARII");
+    static final Enum ARIN = Enum.forString("ARIN");
+    static final Enum ARIS = Enum.forString("ARIS");
+    static final Enum ARIT = Enum.forString("ARIT");
+    static final Enum ARLB = Enum.forString("ARLB");
+    static final Enum ARMA = Enum.forString("ARMA");
+    static final Enum ARMC = Enum.forString("ARMC");
+    static final Enum ARMH = Enum.forString("ARMH");
+    static final Enum ARMO = Enum.forString("ARMO");
+    static final Enum ARMR = Enum.forString("ARMR");
+    static final Enum ARMS = Enum.forString("ARMS");
+    static final Enum ARMT = Enum.forString("ARMT");
+    static final Enum ARND = Enum.forString("ARND");
+    static final Enum ARNO = Enum.forString("ARNO");
+    static final Enum ARNT = Enum.forString("ARNT");
+    static final Enum AROM = Enum.forString("AROM");
+    static final Enum AROS = Enum.forString("AROS");
+    static final Enum ARPS = Enum.forString("ARPS");
+    static final Enum ARPT = Enum.forString("ARPT");
+    static final Enum ARRC = Enum.forString("ARRC");
+    static final Enum ARRM = Enum.forString("ARRM");
+    static final Enum ARRO = Enum.forString("ARRO");
+    static final Enum ARRT = Enum.forString("ARRT");
+    static final Enum ARRW = Enum.forString("ARRW");
+    static final Enum ARSC = Enum.forString("ARSC");
+    static final Enum ARSN = Enum.forString("ARSN");
+    static final Enum ARTA = Enum.forString("ARTA");
+    static final Enum ARTG = Enum.forString("ARTG");
+    static final Enum ARTH = Enum.forString("ARTH");
+    static final Enum ARTI = Enum.forString("ARTI");
+    static final Enum ARTX = Enum.forString("ARTX");
+    static final Enum ASA = Enum.forString("ASA");
+    static final Enum ASBU = Enum.forString("ASBU");
+    static final Enum ASBY = Enum.forString("ASBY");
+    static final Enum ASHD = Enum.forString("ASHD");
+    static final Enum ASHL = Enum.forString("ASHL");
+    static final Enum ASHT = Enum.forString("ASHT");
+    static final Enum ASI = Enum.forString("ASI");
+    static final Enum ASIN = Enum.forString("ASIN");
+    static final Enum ASM = Enum.forString("ASM");
+    static final Enum ASMT = Enum.forString("ASMT");
+    static final Enum ASPE = Enum.forString("ASPE");
+    static final Enum ASPL = Enum.forString("ASPL");
+    static final Enum ASPS = Enum.forString("ASPS");
+    static final Enum ASPT = Enum.forString("ASPT");
+    static final Enum ASTO = Enum.forString("ASTO");
+    static final Enum ASTR = Enum.forString("ASTR");
+    static final Enum ASUN = Enum.forString("ASUN");
+    static final Enum ASVE = Enum.forString("ASVE");
+    static final Enum ATAS = Enum.forString("ATAS");
+    static final Enum ATCH = Enum.forString("ATCH");
+    static final Enum ATCO = Enum.forString("ATCO");
+    static final Enum ATEX = Enum.forString("ATEX");
+    static final Enum ATHE = Enum.forString("ATHE");
+    static final Enum ATK = Enum.forString("ATK");
+    static final Enum ATLA = Enum.forString("ATLA");
+    static final Enum ATLC = Enum.forString("ATLC");
+    static final Enum ATLD = Enum.forString("ATLD");
+    static final Enum ATLN = Enum.forString("ATLN");
+    static final Enum ATLS = Enum.forString("ATLS");
+    static final Enum ATLT = Enum.forString("ATLT");
+    static final Enum ATOC = Enum.forString("ATOC");
+    static final Enum ATSP = Enum.forString("ATSP");
+    static final Enum ATTC = Enum.forString("ATTC");
+    static final Enum ATV = Enum.forString("ATV");
+    static final Enum ATWO = Enum.forString("ATWO");
+    static final Enum AUBN = Enum.forString("AUBN");
+    static final Enum AUBU = Enum.forString("AUBU");
+    static final Enum AUDI = Enum.forString("AUDI");
+    static final Enum AUG = Enum.forString("AUG");
+    static final Enum AUHE = Enum.forString("AUHE");
+    static final Enum AUKR = Enum.forString("AUKR");
+    static final Enum AUPR = Enum.forString("AUPR");
+    static final Enum AURA = Enum.forString("AURA");
+    static final Enum AURO = Enum.forString("AURO");
+    static final Enum AURR = Enum.forString("AURR");
+    static final Enum AUST = Enum.forString("AUST");
+    static final Enum AUTA = Enum.forString("AUTA");
+    static final Enum AUTB = Enum.forString("AUTB");
+    static final Enum AUTH = Enum.forString("AUTH");
+    static final Enum AUTI = Enum.forString("AUTI");
+    static final Enum AUTM = Enum.forString("AUTM");
+    static final Enum AUTO = Enum.forString("AUTO");
+    static final Enum AUTR = Enum.forString("AUTR");
+    static final Enum AUTS = Enum.forString("AUTS");
+    static final Enum AUTT = Enum.forString("AUTT");
+    static final Enum AUTU = Enum.forString("AUTU");
+    static final Enum AUWE = Enum.forString("AUWE");
+    static final Enum AVA = Enum.forString("AVA");
+    static final Enum AVAC = Enum.forString("AVAC");
+    static final Enum AVAL = Enum.forString("AVAL");
+    static final Enum AVAN = Enum.forString("AVAN");
+    static final Enum AVAO = Enum.forString("AVAO");
+    static final Enum AVCO = Enum.forString("AVCO");
+    static final Enum AVEN = Enum.forString("AVEN");
+    static final Enum AVGN = Enum.forString("AVGN");
+    static final Enum AVIA = Enum.forString("AVIA");
+    static final Enum AVIO = Enum.forString("AVIO");
+    static final Enum AVTI = Enum.forString("AVTI");
+    static final Enum AWAY = Enum.forString("AWAY");
+    static final Enum AXLE = Enum.forString("AXLE");
+    static final Enum AYRW = Enum.forString("AYRW");
+    static final Enum AZAL = Enum.forString("AZAL");
+    static final Enum AZMF = Enum.forString("AZMF");
+    static final Enum AZTC = Enum.forString("AZTC");
+    static final Enum AZTE = Enum.forString("AZTE");
+    static final Enum AZTX = Enum.forString("AZTX");
+    static final Enum BABC = Enum.forString("BABC");
+    static final Enum BACC = Enum.forString("BACC");
+    static final Enum BADC = Enum.forString("BADC");
+    static final Enum BADE = Enum.forString("BADE");
+    static final Enum BADG = Enum.forString("BADG");
+    static final Enum BADR = Enum.forString("BADR");
+    static final Enum BAIL = Enum.forString("BAIL");
+    static final Enum BAIN = Enum.forString("BAIN");
+    static final Enum BAJA = Enum.forString("BAJA");
+    static final Enum BAKE = Enum.forString("BAKE");
+    static final Enum BAKI = Enum.forString("BAKI");
+    static final Enum BAKR = Enum.forString("BAKR");
+    static final Enum BALB = Enum.forString("BALB");
+    static final Enum BALD = Enum.forString("BALD");
+    static final Enum BALE = Enum.forString("BALE");
+    static final Enum BALI = Enum.forString("BALI");
+    static final Enum BALK = Enum.forString("BALK");
+    static final Enum BALL = Enum.forString("BALL");
+    static final Enum BALT = Enum.forString("BALT");
+    static final Enum BALZ = Enum.forString("BALZ");
+    static final Enum BAMA = Enum.forString("BAMA");
+    static final Enum BAME = Enum.forString("BAME");
+    static final Enum BAMH = Enum.forString("BAMH");
+    static final Enum BAND = Enum.forString("BAND");
+    static final Enum BANH = Enum.forString("BANH");
+    static final Enum BANK = Enum.forString("BANK");
+    static final Enum BANM = Enum.forString("BANM");
+    static final Enum BANN = Enum.forString("BANN");
+    static final Enum BANT = Enum.forString("BANT");
+    static final Enum BARA = Enum.forString("BARA");
+    static final Enum BARB = Enum.forString("BARB");
+    static final Enum BARC = Enum.forString("BARC");
+    static final Enum BARE = Enum.forString("BARE");
+    static final Enum BARH = Enum.forString("BARH");
+    static final Enum BARI = Enum.forString("BARI");
+    static final Enum BARK = Enum.forString("BARK");
+    static final Enum BARL = Enum.forString("BARL");
+    static final Enum BARN = Enum.forString("BARN");
+    static final Enum BARO = Enum.forString("BARO");
+    static final Enum BARR = Enum.forString("BARR");
+    static final Enum BART = Enum.forString("BART");
+    static final Enum BASS = Enum.forString("BASS");
+    static final Enum BATA = Enum.forString("BATA");
+    static final Enum BATM = Enum.forString("BATM");
+    static final Enum BAUG = Enum.forString("BAUG");
+    static final Enum BAY = Enum.forString("BAY");
+    static final Enum BAYC = Enum.forString("BAYC");
+    static final Enum BBCB = Enum.forString("BBCB");
+    static final Enum BBCH = Enum.forString("BBCH");
+    static final Enum BBEE = Enum.forString("BBEE");
+    static final Enum BBTM = Enum.forString("BBTM");
+    static final Enum BBW = Enum.forString("BBW");
+    static final Enum BCMW = Enum.forString("BCMW");
+    static final Enum BDFL = Enum.forString("BDFL");
+    static final Enum BEAC = Enum.forString("BEAC");
+    static final Enum BEAD = Enum.forString("BEAD");
+    static final Enum BEAE = Enum.forString("BEAE");
+    static final Enum BEAI = Enum.forString("BEAI");
+    static final Enum BEAL = Enum.forString("BEAL");
+    static final Enum BEAM = Enum.forString("BEAM");
+    static final Enum BEAN = Enum.forString("BEAN");
+    static final Enum BEAR = Enum.forString("BEAR");
+    static final Enum BEAT = Enum.forString("BEAT");
+    static final Enum BEAV = Enum.forString("BEAV");
+    static final Enum BEBE = Enum.forString("BEBE");
+    static final Enum BEBO = Enum.forString("BEBO");
+    static final Enum BEC = Enum.forString("BEC");
+    static final Enum BECK = Enum.forString("BECK");
+    static final Enum BEDE = Enum.forString("BEDE");
+    static final Enum BEDF = Enum.forString("BEDF");
+    static final Enum BEDX = Enum.forString("BEDX");
+    static final Enum BEEA = Enum.forString("BEEA");
+    static final Enum BEEC = Enum.forString("BEEC");
+    static final Enum BEEE = Enum.forString("BEEE");
+    static final Enum BEEG = Enum.forString("BEEG");
+    static final Enum BEEH = Enum.forString("BEEH");
+    static final Enum BEEM = Enum.forString("BEEM");
+    static final Enum BEET = Enum.forString("BEET");
+    static final Enum BEJE = Enum.forString("BEJE");
+    static final Enum BELA = Enum.forString("BELA");
+    static final Enum BELE = Enum.forString("BELE");
+    static final Enum BELF = Enum.forString("BELF");
+    static final Enum BELH = Enum.forString("BELH");
+    static final Enum BELL = Enum.forString("BELL");
+    static final Enum BELN = Enum.forString("BELN");
+    static final Enum BELP = Enum.forString("BELP");
+    static final Enum BELR = Enum.forString("BELR");
+    static final Enum BELS = Enum.forString("BELS");
+    static final Enum BELT = Enum.forString("BELT");
+    static final Enum BELU = Enum.forString("BELU");
+    static final Enum BELV = Enum.forString("BELV");
+    static final Enum BENE = Enum.forString("BENE");
+    static final Enum BENL = Enum.forString("BENL");
+    static final Enum BENS = Enum.forString("BENS");
+    static final Enum BENT = Enum.forString("BENT");
+    static final Enum BEPO = Enum.forString("BEPO");
+    static final Enum BERE = Enum.forString("BERE");
+    static final Enum BERG = Enum.forString("BERG");
+    static final Enum BERH = Enum.forString("BERH");
+    static final Enum BERK = Enum.forString("BERK");
+    static final Enum BERM = Enum.forString("BERM");
+    static final Enum BERO = Enum.forString("BERO");
+    static final Enum BERR = Enum.forString("BERR");
+    static final Enum BERT = Enum.forString("BERT");
+    static final Enum BERV = Enum.forString("BERV");
+    static final Enum BESA = Enum.forString("BESA");
+    static final Enum BETA = Enum.forString("BETA");
+    static final Enum BETE = Enum.forString("BETE");
+    static final Enum BETH = Enum.forString("BETH");
+    static final Enum BETT = Enum.forString("BETT");
+    static final Enum BEVR = Enum.forString("BEVR");
+    static final Enum BFOS = Enum.forString("BFOS");
+    static final Enum BGDG = Enum.forString("BGDG");
+    static final Enum BGHM = Enum.forString("BGHM");
+    static final Enum BHNK = Enum.forString("BHNK");
+    static final Enum BIAN = Enum.forString("BIAN");
+    static final Enum BIBB = Enum.forString("BIBB");
+    static final Enum BIEW = Enum.forString("BIEW");
+    static final Enum BIGB = Enum.forString("BIGB");
+    static final Enum BIGH = Enum.forString("BIGH");
+    static final Enum BIGI = Enum.forString("BIGI");
+    static final Enum BIGJ = Enum.forString("BIGJ");
+    static final Enum BIGT = Enum.forString("BIGT");
+    static final Enum BIGV = Enum.forString("BIGV");
+    static final Enum BILE = Enum.forString("BILE");
+    static final Enum BILK = Enum.forString("BILK");
+    static final Enum BILL = Enum.forString("BILL");
+    static final Enum BILR = Enum.forString("BILR");
+    static final Enum BILT = Enum.forString("BILT");
+    static final Enum BIMO = Enum.forString("BIMO");
+    static final Enum BINK = Enum.forString("BINK");
+    static final Enum BINS = Enum.forString("BINS");
+    static final Enum BIOT = Enum.forString("BIOT");
+    static final Enum BIRD = Enum.forString("BIRD");
+    static final Enum BIRE = Enum.forString("BIRE");
+    static final Enum BIRM = Enum.forString("BIRM");
+    static final Enum BITT = Enum.forString("BITT");
+    static final Enum BIVO = Enum.forString("BIVO");
+    static final Enum BIZZ = Enum.forString("BIZZ");
+    static final Enum BJAA = Enum.forString("BJAA");
+    static final Enum BJCT = Enum.forString("BJCT");
+    static final Enum BJEN = Enum.forString("BJEN");
+    static final Enum BJMC = Enum.forString("BJMC");
+    static final Enum BJMS = Enum.forString("BJMS");
+    static final Enum BKDN = Enum.forString("BKDN");
+    static final Enum BKHM = Enum.forString("BKHM");
+    static final Enum BLAB = Enum.forString("BLAB");
+    static final Enum BLAC = Enum.forString("BLAC");
+    static final Enum BLAE = Enum.forString("BLAE");
+    static final Enum BLAH = Enum.forString("BLAH");
+    static final Enum BLAI = Enum.forString("BLAI");
+    static final Enum BLAK = Enum.forString("BLAK");
+    static final Enum BLAO = Enum.forString("BLAO");
+    static final Enum BLAR = Enum.forString("BLAR");
+    static final Enum BLAS = Enum.forString("BLAS");
+    static final Enum BLAW = Enum.forString("BLAW");
+    static final Enum BLAZ = Enum.forString("BLAZ");
+    static final Enum BLDC = Enum.forString("BLDC");
+    static final Enum BLGA = Enum.forString("BLGA");
+    static final Enum BLIN = Enum.forString("BLIN");
+    static final Enum BLIT = Enum.forString("BLIT");
+    static final Enum BLIX = Enum.forString("BLIX");
+    static final Enum BLKE = Enum.forString("BLKE");
+    static final Enum BLLV = Enum.forString("BLLV");
+    static final Enum BLMT = Enum.forString("BLMT");
+    static final Enum BLOM = Enum.forString("BLOM");
+    static final Enum BLOO = Enum.forString("BLOO");
+    static final Enum BLRG = Enum.forString("BLRG");
+    static final Enum BLST = Enum.forString("BLST");
+    static final Enum BLTR = Enum.forString("BLTR");
+    static final Enum BLUB = Enum.forString("BLUB");
+    static final Enum BLUE = Enum.forString("BLUE");
+    static final Enum BLUG = Enum.forString("BLUG");
+    static final Enum BLUI = Enum.forString("BLUI");
+    static final Enum BLUJ = Enum.forString("BLUJ");
+    static final Enum BMBM = Enum.forString("BMBM");
+    static final Enum BMBR = Enum.forString("BMBR");
+    static final Enum BMC = Enum.forString("BMC");
+    static final Enum BMMF = Enum.forString("BMMF");
+    static final Enum BMTR = Enum.forString("BMTR");
+    static final Enum BMW = Enum.forString("BMW");
+    static final Enum BNDR = Enum.forString("BNDR");
+    static final Enum BNDT = Enum.forString("BNDT");
+    static final Enum BNHR = Enum.forString("BNHR");
+    static final Enum BNST = Enum.forString("BNST");
+    static final Enum BNTM = Enum.forString("BNTM");
+    static final Enum BNZA = Enum.forString("BNZA");
+    static final Enum BOAN = Enum.forString("BOAN");
+    static final Enum BOAR = Enum.forString("BOAR");
+    static final Enum BOAS = Enum.forString("BOAS");
+    static final Enum BOAT = Enum.forString("BOAT");
+    static final Enum BOB = Enum.forString("BOB");
+    static final Enum BOBB = Enum.forString("BOBB");
+    static final Enum BOBC = Enum.forString("BOBC");
+    static final Enum BOBK = Enum.forString("BOBK");
+    static final Enum BOBM = Enum.forString("BOBM");
+    static final Enum BOCA = Enum.forString("BOCA");
+    static final Enum BOCE = Enum.forString("BOCE");
+    static final Enum BOCK = Enum.forString("BOCK");
+    static final Enum BOCS = Enum.forString("BOCS");
+    static final Enum BOER = Enum.forString("BOER");
+    static final Enum BOIS = Enum.forString("BOIS");
+    static final Enum BOLA = Enum.forString("BOLA");
+    static final Enum BOLG = Enum.forString("BOLG");
+    static final Enum BOMA = Enum.forString("BOMA");
+    static final Enum BOMB = Enum.forString("BOMB");
+    static final Enum BOMF = Enum.forString("BOMF");
+    static final Enum BOMG = Enum.forString("BOMG");
+    static final Enum BONA = Enum.forString("BONA");
+    static final Enum BONC = Enum.forString("BONC");
+    static final Enum BOND = Enum.forString("BOND");
+    static final Enum BONE = Enum.forString("BONE");
+    static final Enum BONI = Enum.forString("BONI");
+    static final Enum BOON = Enum.forString("BOON");
+    static final Enum BORC = Enum.forString("BORC");
+    static final Enum BORF = Enum.forString("BORF");
+    static final Enum BORG = Enum.forString("BORG");
+    static final Enum BOSS = Enum.forString("BOSS");
+    static final Enum BOTL = Enum.forString("BOTL");
+    static final Enum BOUL = Enum.forString("BOUL");
+    static final Enum BOWE = Enum.forString("BOWE");
+    static final Enum BOWI = Enum.forString("BOWI");
+    static final Enum BOWM = Enum.forString("BOWM");
+    static final Enum BOWN = Enum.forString("BOWN");
+    static final Enum BOWS = Enum.forString("BOWS");
+    static final Enum BOXR = Enum.forString("BOXR");
+    static final Enum BOYD = Enum.forString("BOYD");
+    static final Enum BOYR = Enum.forString("BOYR");
+    static final Enum BRAC = Enum.forString("BRAC");
+    static final Enum BRAD = Enum.forString("BRAD");
+    static final Enum BRAF = Enum.forString("BRAF");
+    static final Enum BRAL = Enum.forString("BRAL");
+    static final Enum BRAN = Enum.forString("BRAN");
+    static final Enum BRAS = Enum.forString("BRAS");
+    static final Enum BRAT = Enum.forString("BRAT");
+    static final Enum BRAU = Enum.forString("BRAU");
+    static final Enum BRAV = Enum.forString("BRAV");
+    static final Enum BRAW = Enum.forString("BRAW");
+    static final Enum BRAY = Enum.forString("BRAY");
+    static final Enum BRCO = Enum.forString("BRCO");
+    static final Enum BRCT = Enum.forString("BRCT");
+    static final Enum BRCV = Enum.forString("BRCV");
+    static final Enum BRDC = Enum.forString("BRDC");
+    static final Enum BRDK = Enum.forString("BRDK");
+    static final Enum BRDL = Enum.forString("BRDL");
+    static final Enum BRDR = Enum.forString("BRDR");
+    static final Enum BREE = Enum.forString("BREE");
+    static final Enum BREI = Enum.forString("BREI");
+    static final Enum BREK = Enum.forString("BREK");
+    static final Enum BREM = Enum.forString("BREM");
+    static final Enum BREN = Enum.forString("BREN");
+    static final Enum BRET = Enum.forString("BRET");
+    static final Enum BREW = Enum.forString("BREW");
+    static final Enum BREZ = Enum.forString("BREZ");
+    static final Enum BRGS = Enum.forString("BRGS");
+    static final Enum BRIC = Enum.forString("BRIC");
+    static final Enum BRID = Enum.forString("BRID");
+    static final Enum BRIE = Enum.forString("BRIE");
+    static final Enum BRIG = Enum.forString("BRIG");
+    static final Enum BRIH = Enum.forString("BRIH");
+    static final Enum BRIL = Enum.forString("BRIL");
+    static final Enum BRIO = Enum.forString("BRIO");
+    static final Enum BRIS = Enum.forString("BRIS");
+    static final Enum BRIT = Enum.forString("BRIT");
+    static final Enum BRKW = Enum.forString("BRKW");
+    static final Enum BRLL = Enum.forString("BRLL");
+    static final Enum BRMR = Enum.forString("BRMR");
+    static final Enum BRND = Enum.forString("BRND");
+    static final Enum BRNG = Enum.forString("BRNG");
+    static final Enum BROA = Enum.forString("BROA");
+    static final Enum BROB = Enum.forString("BROB");
+    static final Enum BROC = Enum.forString("BROC");
+    static final Enum BROD = Enum.forString("BROD");
+    static final Enum BROE = Enum.forString("BROE");
+    static final Enum BROH = Enum.forString("BROH");
+    static final Enum BROK = Enum.forString("BROK");
+    static final Enum BRON = Enum.forString("BRON");
+    static final Enum BROO = Enum.forString("BROO");
+    static final Enum BROR = Enum.forString("BROR");
+    static final Enum BROS = Enum.forString("BROS");
+    static final Enum BROT = Enum.forString("BROT");
+    static final Enum BROU = Enum.forString("BROU");
+    static final Enum BROW = Enum.forString("BROW");
+    static final Enum BROY = Enum.forString("BROY");
+    static final Enum BRRO = Enum.forString("BRRO");
+    static final Enum BRSH = Enum.forString("BRSH");
+    static final Enum BRST = Enum.forString("BRST");
+    static final Enum BRTE = Enum.forString("BRTE");
+    static final Enum BRTI = Enum.forString("BRTI");
+    static final Enum BRTO = Enum.forString("BRTO");
+    static final Enum BRTR = Enum.forString("BRTR");
+    static final Enum BRTT = Enum.forString("BRTT");
+    static final Enum BRUN = Enum.forString("BRUN");
+    static final Enum BRUT = Enum.forString("BRUT");
+    static final Enum BRUZ = Enum.forString("BRUZ");
+    static final Enum BRWD = Enum.forString("BRWD");
+    static final Enum BRWN = Enum.forString("BRWN");
+    static final Enum BSA = Enum.forString("BSA");
+    static final Enum BSB = Enum.forString("BSB");
+    static final Enum BTEC = Enum.forString("BTEC");
+    static final Enum BTVS = Enum.forString("BTVS");
+    static final Enum BUCC = Enum.forString("BUCC");
+    static final Enum BUCI = Enum.forString("BUCI");
+    static final Enum BUCK = Enum.forString("BUCK");
+    static final Enum BUCM = Enum.forString("BUCM");
+    static final Enum BUCN = Enum.forString("BUCN");
+    static final Enum BUCO = Enum.forString("BUCO");
+    static final Enum BUCS = Enum.forString("BUCS");
+    static final Enum BUCY = Enum.forString("BUCY");
+    static final Enum BUDC = Enum.forString("BUDC");
+    static final Enum BUDD = Enum.forString("BUDD");
+    static final Enum BUDG = Enum.forString("BUDG");
+    static final Enum BUDR = Enum.forString("BUDR");
+    static final Enum BUDS = Enum.forString("BUDS");
+    static final Enum BUEL = Enum.forString("BUEL");
+    static final Enum BUFF = Enum.forString("BUFF");
+    static final Enum BUG = Enum.forString("BUG");
+    static final Enum BUGA = Enum.forString("BUGA");
+    static final Enum BUHL = Enum.forString("BUHL");
+    static final Enum BUIC = Enum.forString("BUIC");
+    static final Enum BUIL = Enum.forString("BUIL");
+    static final Enum BULK = Enum.forString("BULK");
+    static final Enum BULL = Enum.forString("BULL");
+    static final Enum BULM = Enum.forString("BULM");
+    static final Enum BULT = Enum.forString("BULT");
+    static final Enum BUNT = Enum.forString("BUNT");
+    static final Enum BUNY = Enum.forString("BUNY");
+    static final Enum BURC = Enum.forString("BURC");
+    static final Enum BURE = Enum.forString("BURE");
+    static final Enum BURK = Enum.forString("BURK");
+    static final Enum BURL = Enum.forString("BURL");
+    static final Enum BURN = Enum.forString("BURN");
+    static final Enum BURO = Enum.forString("BURO");
+    static final Enum BURR = Enum.forString("BURR");
+    static final Enum BUSH = Enum.forString("BUSH");
+    static final Enum BUSO = Enum.forString("BUSO");
+    static final Enum BUSP = Enum.forString("BUSP");
+    static final Enum BUTE = Enum.forString("BUTE");
+    static final Enum BUTL = Enum.forString("BUTL");
+    static final Enum BUTT = Enum.forString("BUTT");
+    static final Enum BVCR = Enum.forString("BVCR");
+    static final Enum BWAY = Enum.forString("BWAY");
+    static final Enum BWHO = Enum.forString("BWHO");
+    static final Enum BYER = Enum.forString("BYER");
+    static final Enum BYMW = Enum.forString("BYMW");
+    static final Enum BYOR = Enum.forString("BYOR");
+    static final Enum BYRM = Enum.forString("BYRM");
+    static final Enum BYRS = Enum.forString("BYRS");
+    static final Enum BYSN = Enum.forString("BYSN");
+    static final Enum BZEL = Enum.forString("BZEL");
+    static final Enum CAAR = Enum.forString("CAAR");
+    static final Enum CABA = Enum.forString("CABA");
+    static final Enum CABK = Enum.forString("CABK");
+    static final Enum CACA = Enum.forString("CACA");
+    static final Enum CACR = Enum.forString("CACR");
+    static final Enum CACV = Enum.forString("CACV");
+    static final Enum CACY = Enum.forString("CACY");
+    static final Enum CADE = Enum.forString("CADE");
+    static final Enum CADF = Enum.forString("CADF");
+    static final Enum CADI = Enum.forString("CADI");
+    static final Enum CAFF = Enum.forString("CAFF");
+    static final Enum CAGI = Enum.forString("CAGI");
+    static final Enum CAHA = Enum.forString("CAHA");
+    static final Enum CALC = Enum.forString("CALC");
+    static final Enum CALD = Enum.forString("CALD");
+    static final Enum CALF = Enum.forString("CALF");
+    static final Enum CALH = Enum.forString("CALH");
+    static final Enum CALI = Enum.forString("CALI");
+    static final Enum CALK = Enum.forString("CALK");
+    static final Enum CALL = Enum.forString("CALL");
+    static final Enum CALM = Enum.forString("CALM");
+    static final Enum CALN = Enum.forString("CALN");
+    static final Enum CALO = Enum.forString("CALO");
+    static final Enum CALS = Enum.forString("CALS");
+    static final Enum CALT = Enum.forString("CALT");
+    static final Enum CALU = Enum.forString("CALU");
+    static final Enum CALW = Enum.forString("CALW");
+    static final Enum CALY = Enum.forString("CALY");
+    static final Enum CAMA = Enum.forString("CAMA");
+    static final Enum CAMB = Enum.forString("CAMB");
+    static final Enum CAMC = Enum.forString("CAMC");
+    static final Enum CAMD = Enum.forString("CAMD");
+    static final Enum CAME = Enum.forString("CAME");
+    static final Enum CAMF = Enum.forString("CAMF");
+    static final Enum CAMI = Enum.forString("CAMI");
+    static final Enum CAML = Enum.forString("CAML");
+    static final Enum CAMM = Enum.forString("CAMM");
+    static final Enum CAMO = Enum.forString("CAMO");
+    static final Enum CAMP = Enum.forString("CAMP");
+    static final Enum CAMR = Enum.forString("CAMR");
+    static final Enum CAMS = Enum.forString("CAMS");
+    static final Enum CAMT = Enum.forString("CAMT");
+    static final Enum CAMU = Enum.forString("CAMU");
+    static final Enum CAMV = Enum.forString("CAMV");
+    static final Enum CAMY = Enum.forString("CAMY");
+    static final Enum CANA = Enum.forString("CANA");
+    static final Enum CANC = Enum.forString("CANC");
+    static final Enum CAND = Enum.forString("CAND");
+    static final Enum CANE = Enum.forString("CANE");
+    static final Enum CANG = Enum.forString("CANG");
+    static final Enum CANN = Enum.forString("CANN");
+    static final Enum CANO = Enum.forString("CANO");
+    static final Enum CANS = Enum.forString("CANS");
+    static final Enum CANT = Enum.forString("CANT");
+    static final Enum CAP = Enum.forString("CAP");
+    static final Enum CAPA = Enum.forString("CAPA");
+    static final Enum CAPC = Enum.forString("CAPC");
+    static final Enum CAPE = Enum.forString("CAPE");
+    static final Enum CAPH = Enum.forString("CAPH");
+    static final Enum CAPI = Enum.forString("CAPI");
+    static final Enum CAPL = Enum.forString("CAPL");
+    static final Enum CAPM = Enum.forString("CAPM");
+    static final Enum CAPR = Enum.forString("CAPR");
+    static final Enum CAPT = Enum.forString("CAPT");
+    static final Enum CARA = Enum.forString("CARA");
+    static final Enum CARB = Enum.forString("CARB");
+    static final Enum CARC = Enum.forString("CARC");
+    static final Enum CARD = Enum.forString("CARD");
+    static final Enum CARE = Enum.forString("CARE");
+    static final Enum CARF = Enum.forString("CARF");
+    static final Enum CARG = Enum.forString("CARG");
+    static final Enum CARH = Enum.forString("CARH");
+    static final Enum CARI = Enum.forString("CARI");
+    static final Enum CARK = Enum.forString("CARK");
+    static final Enum CARL = Enum.forString("CARL");
+    static final Enum CARM = Enum.forString("CARM");
+    static final Enum CARN = Enum.forString("CARN");
+    static final Enum CARO = Enum.forString("CARO");
+    static final Enum CARP = Enum.forString("CARP");
+    static final Enum CARR = Enum.forString("CARR");
+    static final Enum CARS = Enum.forString("CARS");
+    static final Enum CART = Enum.forString("CART");
+    static final Enum CARW = Enum.forString("CARW");
+    static final Enum CARY = Enum.forString("CARY");
+    static final Enum CASA = Enum.forString("CASA");
+    static final Enum CASC = Enum.forString("CASC");
+    static final Enum CASE = Enum.forString("CASE");
+    static final Enum CASH = Enum.forString("CASH");
+    static final Enum CASL = Enum.forString("CASL");
+    static final Enum CASR = Enum.forString("CASR");
+    static final Enum CAST = Enum.forString("CAST");
+    static final Enum CAT = Enum.forString("CAT");
+    static final Enum CATA = Enum.forString("CATA");
+    static final Enum CATI = Enum.forString("CATI");
+    static final Enum CATL = Enum.forString("CATL");
+    static final Enum CATM = Enum.forString("CATM");
+    static final Enum CATO = Enum.forString("CATO");
+    static final Enum CAUL = Enum.forString("CAUL");
+    static final Enum CAVA = Enum.forString("CAVA");
+    static final Enum CAVC = Enum.forString("CAVC");
+    static final Enum CAVE = Enum.forString("CAVE");
+    static final Enum CAVL = Enum.forString("CAVL");
+    static final Enum CBCM = Enum.forString("CBCM");
+    static final Enum CBMA = Enum.forString("CBMA");
+    static final Enum CBRA = Enum.forString("CBRA");
+    static final Enum CBRO = Enum.forString("CBRO");
+    static final Enum CBTL = Enum.forString("CBTL");
+    static final Enum CBUT = Enum.forString("CBUT");
+    static final Enum CCC = Enum.forString("CCC");
+    static final Enum CCCY = Enum.forString("CCCY");
+    static final Enum CCDI = Enum.forString("CCDI");
+    static final Enum CCMF = Enum.forString("CCMF");
+    static final Enum CCMH = Enum.forString("CCMH");
+    static final Enum CCTI = Enum.forString("CCTI");
+    static final Enum CEEZ = Enum.forString("CEEZ");
+    static final Enum CEIQ = Enum.forString("CEIQ");
+    static final Enum CENA = Enum.forString("CENA");
+    static final Enum CENI = Enum.forString("CENI");
+    static final Enum CENR = Enum.forString("CENR");
+    static final Enum CENT = Enum.forString("CENT");
+    static final Enum CENU = Enum.forString("CENU");
+    static final Enum CENY = Enum.forString("CENY");
+    static final Enum CERT = Enum.forString("CERT");
+    static final Enum CEVA = Enum.forString("CEVA");
+    static final Enum CEZE = Enum.forString("CEZE");
+    static final Enum CFBT = Enum.forString("CFBT");
+    static final Enum CFCH = Enum.forString("CFCH");
+    static final Enum CGMT = Enum.forString("CGMT");
+    static final Enum CGXP = Enum.forString("CGXP");
+    static final Enum CHAC = Enum.forString("CHAC");
+    static final Enum CHAE = Enum.forString("CHAE");
+    static final Enum CHAG = Enum.forString("CHAG");
+    static final Enum CHAH = Enum.forString("CHAH");
+    static final Enum CHAI = Enum.forString("CHAI");
+    static final Enum CHAL = Enum.forString("CHAL");
+    static final Enum CHAM = Enum.forString("CHAM");
+    static final Enum CHAP = Enum.forString("CHAP");
+    static final Enum CHAR = Enum.forString("CHAR");
+    static final Enum CHAT = Enum.forString("CHAT");
+    static final Enum CHAU = Enum.forString("CHAU");
+    static final Enum CHCI = Enum.forString("CHCI");
+    static final Enum CHCO = Enum.forString("CHCO");
+    static final Enum CHEC = Enum.forString("CHEC");
+    static final Enum CHEE = Enum.forString("CHEE");
+    static final Enum CHEM = Enum.forString("CHEM");
+    static final Enum CHEN = Enum.forString("CHEN");
+    static final Enum CHEO = Enum.forString("CHEO");
+    static final Enum CHEP = Enum.forString("CHEP");
+    static final Enum CHER = Enum.forString("CHER");
+    static final Enum CHES = Enum.forString("CHES");
+    static final Enum CHET = Enum.forString("CHET");
+    static final Enum CHEV = Enum.forString("CHEV");
+    static final Enum CHEX = Enum.forString("CHEX");
+    static final Enum CHFB = Enum.forString("CHFB");
+    static final Enum CHIA = Enum.forString("CHIA");
+    static final Enum CHIB = Enum.forString("CHIB");
+    static final Enum CHIC = Enum.forString("CHIC");
+    static final Enum CHIE = Enum.forString("CHIE");
+    static final Enum CHII = Enum.forString("CHII");
+    static final Enum CHIL = Enum.forString("CHIL");
+    static final Enum CHIM = Enum.forString("CHIM");
+    static final Enum CHIN = Enum.forString("CHIN");
+    static final Enum CHIP = Enum.forString("CHIP");
+    static final Enum CHIS = Enum.forString("CHIS");
+    static final Enum CHKE = Enum.forString("CHKE");
+    static final Enum CHKG = Enum.forString("CHKG");
+    static final Enum CHLG = Enum.forString("CHLG");
+    static final Enum CHLY = Enum.forString("CHLY");
+    static final Enum CHMC = Enum.forString("CHMC");
+    static final Enum CHMP = Enum.forString("CHMP");
+    static final Enum CHNO = Enum.forString("CHNO");
+    static final Enum CHOC = Enum.forString("CHOC");
+    static final Enum CHPL = Enum.forString("CHPL");
+    static final Enum CHPM = Enum.forString("CHPM");
+    static final Enum CHPN = Enum.forString("CHPN");
+    static final Enum CHPR = Enum.forString("CHPR");
+    static final Enum CHPT = Enum.forString("CHPT");
+    static final Enum CHRI = Enum.forString("CHRI");
+    static final Enum CHRO = Enum.forString("CHRO");
+    static final Enum CHRS = Enum.forString("CHRS");
+    static final Enum CHRV = Enum.forString("CHRV");
+    static final Enum CHRY = Enum.forString("CHRY");
+    static final Enum CHTH = Enum.forString("CHTH");
+    static final Enum CHTM = Enum.forString("CHTM");
+    static final Enum CHUC = Enum.forString("CHUC");
+    static final Enum CHUK = Enum.forString("CHUK");
+    static final Enum CHVL = Enum.forString("CHVL");
+    static final Enum CHYI = Enum.forString("CHYI");
+    static final Enum CICC = Enum.forString("CICC");
+    static final Enum CIMA = Enum.forString("CIMA");
+    static final Enum CIMC = Enum.forString("CIMC");
+    static final Enum CIMR = Enum.forString("CIMR");
+    static final Enum CIRC = Enum.forString("CIRC");
+    static final Enum CIRD = Enum.forString("CIRD");
+    static final Enum CIRH = Enum.forString("CIRH");
+    static final Enum CIRK = Enum.forString("CIRK");
+    static final Enum CIRM = Enum.forString("CIRM");
+    static final Enum CIRV = Enum.forString("CIRV");
+    static final Enum CISI = Enum.forString("CISI");
+    static final Enum CITA = Enum.forString("CITA");
+    static final Enum CITI = Enum.forString("CITI");
+    static final Enum CITR = Enum.forString("CITR");
+    static final Enum CITY = Enum.forString("CITY");
+    static final Enum CIWE = Enum.forString("CIWE");
+    static final Enum CJGC = Enum.forString("CJGC");
+    static final Enum CLAA = Enum.forString("CLAA");
+    static final Enum CLAB = Enum.forString("CLAB");
+    static final Enum CLAC = Enum.forString("CLAC");
+    static final Enum CLAI = Enum.forString("CLAI");
+    static final Enum CLAM = Enum.forString("CLAM");
+    static final Enum CLAN = Enum.forString("CLAN");
+    static final Enum CLAR = Enum.forString("CLAR");
+    static final Enum CLAS = Enum.forString("CLAS");
+    static final Enum CLAT = Enum.forString("CLAT");
+    static final Enum CLAX = Enum.forString("CLAX");
+    static final Enum CLAY = Enum.forString("CLAY");
+    static final Enum CLAZ = Enum.forString("CLAZ");
+    static final Enum CLBR = Enum.forString("CLBR");
+    static final Enum CLCO = Enum.forString("CLCO");
+    static final Enum CLEA = Enum.forString("CLEA");
+    static final Enum CLEG = Enum.forString("CLEG");
+    static final Enum CLEM = Enum.forString("CLEM");
+    static final Enum CLEN = Enum.forString("CLEN");
+    static final Enum CLEV = Enum.forString("CLEV");
+    static final Enum CLIF = Enum.forString("CLIF");
+    static final Enum CLIH = Enum.forString("CLIH");
+    static final Enum CLIN = Enum.forString("CLIN");
+    static final Enum CLIP = Enum.forString("CLIP");
+    static final Enum CLIT = Enum.forString("CLIT");
+    static final Enum CLMB = Enum.forString("CLMB");
+    static final Enum CLMC = Enum.forString("CLMC");
+    static final Enum CLMN = Enum.forString("CLMN");
+    static final Enum CLON = Enum.forString("CLON");
+    static final Enum CLOU = Enum.forString("CLOU");
+    static final Enum CLSS = Enum.forString("CLSS");
+    static final Enum CLST = Enum.forString("CLST");
+    static final Enum CLUA = Enum.forString("CLUA");
+    static final Enum CLUM = Enum.forString("CLUM");
+    static final Enum CLVA = Enum.forString("CLVA");
+    static final Enum CLVR = Enum.forString("CLVR");
+    static final Enum CLWX = Enum.forString("CLWX");
+    static final Enum CLYP = Enum.forString("CLYP");
+    static final Enum CMAC = Enum.forString("CMAC");
+    static final Enum CMBL = Enum.forString("CMBL");
+    static final Enum CMCC = Enum.forString("CMCC");
+    static final Enum CMCI = Enum.forString("CMCI");
+    static final Enum CMCO = Enum.forString("CMCO");
+    static final Enum CMCW = Enum.forString("CMCW");
+    static final Enum CMEO = Enum.forString("CMEO");
+    static final Enum CMFB = Enum.forString("CMFB");
+    static final Enum CMIC = Enum.forString("CMIC");
+    static final Enum CMIL = Enum.forString("CMIL");
+    static final Enum CMMS = Enum.forString("CMMS");
+    static final Enum CMOR = Enum.forString("CMOR");
+    static final Enum CMPF = Enum.forString("CMPF");
+    static final Enum CMPG = Enum.forString("CMPG");
+    static final Enum CMPS = Enum.forString("CMPS");
+    static final Enum CMPT = Enum.forString("CMPT");
+    static final Enum CMSU = Enum.forString("CMSU");
+    static final Enum CMWC = Enum.forString("CMWC");
+    static final Enum CNLS = Enum.forString("CNLS");
+    static final Enum CNMI = Enum.forString("CNMI");
+    static final Enum CNRD = Enum.forString("CNRD");
+    static final Enum CNRY = Enum.forString("CNRY");
+    static final Enum CNST = Enum.forString("CNST");
+    static final Enum CNTL = Enum.forString("CNTL");
+    static final Enum CNTR = Enum.forString("CNTR");
+    static final Enum CNWD = Enum.forString("CNWD");
+    static final Enum COAC = Enum.forString("COAC");
+    static final Enum COAH = Enum.forString("COAH");
+    static final Enum COAI = Enum.forString("COAI");
+    static final Enum COAM = Enum.forString("COAM");
+    static final Enum COAS = Enum.forString("COAS");
+    static final Enum COBM = Enum.forString("COBM");
+    static final Enum COBR = Enum.forString("COBR");
+    static final Enum COBU = Enum.forString("COBU");
+    static final Enum COCF = Enum.forString("COCF");
+    static final Enum COCH = Enum.forString("COCH");
+    static final Enum COCL = Enum.forString("COCL");
+    static final Enum COCO = Enum.forString("COCO");
+    static final Enum COCP = Enum.forString("COCP");
+    static final Enum CODY = Enum.forString("CODY");
+    static final Enum COEQ = Enum.forString("COEQ");
+    static final Enum COLB = Enum.forString("COLB");
+    static final Enum COLE = Enum.forString("COLE");
+    static final Enum COLF = Enum.forString("COLF");
+    static final Enum COLG = Enum.forString("COLG");
+    static final Enum COLL = Enum.forString("COLL");
+    static final Enum COLM = Enum.forString("COLM");
+    static final Enum COLO = Enum.forString("COLO");
+    static final Enum COLP = Enum.forString("COLP");
+    static final Enum COLS = Enum.forString("COLS");
+    static final Enum COLT = Enum.forString("COLT");
+    static final Enum COLU = Enum.forString("COLU");
+    static final Enum COMA = Enum.forString("COMA");
+    static final Enum COMC = Enum.forString("COMC");
+    static final Enum COMD = Enum.forString("COMD");
+    static final Enum COME = Enum.forString("COME");
+    static final Enum COMI = Enum.forString("COMI");
+    static final Enum COML = Enum.forString("COML");
+    static final Enum COMM = Enum.forString("COMM");
+    static final Enum COMN = Enum.forString("COMN");
+    static final Enum COMO = Enum.forString("COMO");
+    static final Enum COMP = Enum.forString("COMP");
+    static final Enum COMR = Enum.forString("COMR");
+    static final Enum COMT = Enum.forString("COMT");
+    static final Enum COMU = Enum.forString("COMU");
+    static final Enum COMV = Enum.forString("COMV");
+    static final Enum COMY = Enum.forString("COMY");
+    static final Enum CONC = Enum.forString("CONC");
+    static final Enum COND = Enum.forString("COND");
+    static final Enum CONE = Enum.forString("CONE");
+    static final Enum CONF = Enum.forString("CONF");
+    static final Enum CONG = Enum.forString("CONG");
+    static final Enum CONH = Enum.forString("CONH");
+    static final Enum CONI = Enum.forString("CONI");
+    static final Enum CONL = Enum.forString("CONL");
+    static final Enum CONM = Enum.forString("CONM");
+    static final Enum CONN = Enum.forString("CONN");
+    static final Enum CONO = Enum.forString("CONO");
+    static final Enum CONP = Enum.forString("CONP");
+    static final Enum CONR = Enum.forString("CONR");
+    static final Enum CONS = Enum.forString("CONS");
+    static final Enum CONT = Enum.forString("CONT");
+    static final Enum CONU = Enum.forString("CONU");
+    static final Enum CONV = Enum.forString("CONV");
+    static final Enum CONW = Enum.forString("CONW");
+    static final Enum CONX = Enum.forString("CONX");
+    static final Enum CONY = Enum.forString("CONY");
+    static final Enum CONZ = Enum.forString("CONZ");
+    static final Enum COOE = Enum.forString("COOE");
+    static final Enum COOK = Enum.forString("COOK");
+    static final Enum COON = Enum.forString("COON");
+    static final Enum COOP = Enum.forString("COOP");
+    static final Enum COOS = Enum.forString("COOS");
+    static final Enum COPA = Enum.forString("COPA");
+    static final Enum COPC = Enum.forString("COPC");
+    static final Enum COPP = Enum.forString("COPP");
+    static final Enum CORB = Enum.forString("CORB");
+    static final Enum CORD = Enum.forString("CORD");
+    static final Enum CORG = Enum.forString("CORG");
+    static final Enum CORN = Enum.forString("CORN");
+    static final Enum CORO = Enum.forString("CORO");
+    static final Enum CORR = Enum.forString("CORR");
+    static final Enum CORS = Enum.forString("CORS");
+    static final Enum CORT = Enum.forString("CORT");
+    static final Enum CORV = Enum.forString("CORV");
+    static final Enum CORY = Enum.forString("CORY");
+    static final Enum COSM = Enum.forString("COSM");
+    static final Enum COSU = Enum.forString("COSU");
+    static final Enum COT = Enum.forString("COT");
+    static final Enum COTC = Enum.forString("COTC");
+    static final Enum COTN = Enum.forString("COTN");
+    static final Enum COTT = Enum.forString("COTT");
+    static final Enum COTZ = Enum.forString("COTZ");
+    static final Enum COUA = Enum.forString("COUA");
+    static final Enum COUB = Enum.forString("COUB");
+    static final Enum COUI = Enum.forString("COUI");
+    static final Enum COUN = Enum.forString("COUN");
+    static final Enum COUR = Enum.forString("COUR");
+    static final Enum COVE = Enum.forString("COVE");
+    static final Enum COWM = Enum.forString("COWM");
+    static final Enum COWY = Enum.forString("COWY");
+    static final Enum COXS = Enum.forString("COXS");
+    static final Enum COYN = Enum.forString("COYN");
+    static final Enum COYO = Enum.forString("COYO");
+    static final Enum COZA = Enum.forString("COZA");
+    static final Enum CPNK = Enum.forString("CPNK");
+    static final Enum CPPR = Enum.forString("CPPR");
+    static final Enum CPTC = Enum.forString("CPTC");
+    static final Enum CPTN = Enum.forString("CPTN");
+    static final Enum CPTV = Enum.forString("CPTV");
+    static final Enum CRAF = Enum.forString("CRAF");
+    static final Enum CRAM = Enum.forString("CRAM");
+    static final Enum CRAN = Enum.forString("CRAN");
+    static final Enum CRAW = Enum.forString("CRAW");
+    static final Enum CRCF = Enum.forString("CRCF");
+    static final Enum CRCN = Enum.forString("CRCN");
+    static final Enum CRCO = Enum.forString("CRCO");
+    static final Enum CREE = Enum.forString("CREE");
+    static final Enum CREL = Enum.forString("CREL");
+    static final Enum CREO = Enum.forString("CREO");
+    static final Enum CREQ = Enum.forString("CREQ");
+    static final Enum CRET = Enum.forString("CRET");
+    static final Enum CREX = Enum.forString("CREX");
+    static final Enum CRFI = Enum.forString("CRFI");
+    static final Enum CRFT = Enum.forString("CRFT");
+    static final Enum CRGK = Enum.forString("CRGK");
+    static final Enum CRGO = Enum.forString("CRGO");
+    static final Enum CRGP = Enum.forString("CRGP");
+    static final Enum CRGR = Enum.forString("CRGR");
+    static final Enum CRI = Enum.forString("CRI");
+    static final Enum CRIC = Enum.forString("CRIC");
+    static final Enum CRIM = Enum.forString("CRIM");
+    static final Enum CRIT = Enum.forString("CRIT");
+    static final Enum CRKG = Enum.forString("CRKG");
+    static final Enum CRLY = Enum.forString("CRLY");
+    static final Enum CRMT = Enum.forString("CRMT");
+    static final Enum CRNP = Enum.forString("CRNP");
+    static final Enum CROE = Enum.forString("CROE");
+    static final Enum CROF = Enum.forString("CROF");
+    static final Enum CROH = Enum.forString("CROH");
+    static final Enum CROI = Enum.forString("CROI");
+    static final Enum CRON = Enum.forString("CRON");
+    static final Enum CROR = Enum.forString("CROR");
+    static final Enum CROS = Enum.forString("CROS");
+    static final Enum CROT = Enum.forString("CROT");
+    static final Enum CROW = Enum.forString("CROW");
+    static final Enum CRPT = Enum.forString("CRPT");
+    static final Enum CRRN = Enum.forString("CRRN");
+    static final Enum CRST = Enum.forString("CRST");
+    static final Enum CRUI = Enum.forString("CRUI");
+    static final Enum CRUM = Enum.forString("CRUM");
+    static final Enum CRVM = Enum.forString("CRVM");
+    static final Enum CRWE = Enum.forString("CRWE");
+    static final Enum CRYS = Enum.forString("CRYS");
+    static final Enum CSHM = Enum.forString("CSHM");
+    static final Enum CSMC = Enum.forString("CSMC");
+    static final Enum CSMM = Enum.forString("CSMM");
+    static final Enum CSTL = Enum.forString("CSTL");
+    static final Enum CSTM = Enum.forString("CSTM");
+    static final Enum CSTW = Enum.forString("CSTW");
+    static final Enum CTEC = Enum.forString("CTEC");
+    static final Enum CTRC = Enum.forString("CTRC");
+    static final Enum CTRI = Enum.forString("CTRI");
+    static final Enum CTSI = Enum.forString("CTSI");
+    static final Enum CTTM = Enum.forString("CTTM");
+    static final Enum CUAP = Enum.forString("CUAP");
+    static final Enum CUAS = Enum.forString("CUAS");
+    static final Enum CUBC = Enum.forString("CUBC");
+    static final Enum CUBS = Enum.forString("CUBS");
+    static final Enum CUKE = Enum.forString("CUKE");
+    static final Enum CUKH = Enum.forString("CUKH");
+    static final Enum CULL = Enum.forString("CULL");
+    static final Enum CULN = Enum.forString("CULN");
+    static final Enum CULP = Enum.forString("CULP");
+    static final Enum CUMB = Enum.forString("CUMB");
+    static final Enum CUNN = Enum.forString("CUNN");
+    static final Enum CURB = Enum.forString("CURB");
+    static final Enum CURR = Enum.forString("CURR");
+    static final Enum CURT = Enum.forString("CURT");
+    static final Enum CUSA = Enum.forString("CUSA");
+    static final Enum CUSB = Enum.forString("CUSB");
+    static final Enum CUSC = Enum.forString("CUSC");
+    static final Enum CUSE = Enum.forString("CUSE");
+    static final Enum CUSF = Enum.forString("CUSF");
+    static final Enum CUSH = Enum.forString("CUSH");
+    static final Enum CUSI = Enum.forString("CUSI");
+    static final Enum CUSL = Enum.forString("CUSL");
+    static final Enum CUSM = Enum.forString("CUSM");
+    static final Enum CUSO = Enum.forString("CUSO");
+    static final Enum CUST = Enum.forString("CUST");
+    static final Enum CUTU = Enum.forString("CUTU");
+    static final Enum CUYL = Enum.forString("CUYL");
+    static final Enum CVLO = Enum.forString("CVLO");
+    static final Enum CVWE = Enum.forString("CVWE");
+    static final Enum CWCF = Enum.forString("CWCF");
+    static final Enum CWPC = Enum.forString("CWPC");
+    static final Enum CWTR = Enum.forString("CWTR");
+    static final Enum CYCK = Enum.forString("CYCK");
+    static final Enum CYCL = Enum.forString("CYCL");
+    static final Enum CYSC = Enum.forString("CYSC");
+    static final Enum CZ = Enum.forString("CZ");
+    static final Enum DABR = Enum.forString("DABR");
+    static final Enum DACO = Enum.forString("DACO");
+    static final Enum DAEW = Enum.forString("DAEW");
+    static final Enum DAF = Enum.forString("DAF");
+    static final Enum DAFF = Enum.forString("DAFF");
+    static final Enum DAIH = Enum.forString("DAIH");
+    static final Enum DAIM = Enum.forString("DAIM");
+    static final Enum DAIN = Enum.forString("DAIN");
+    static final Enum DAIR = Enum.forString("DAIR");
+    static final Enum DAKO = Enum.forString("DAKO");
+    static final Enum DALE = Enum.forString("DALE");
+    static final Enum DALI = Enum.forString("DALI");
+    static final Enum DALT = Enum.forString("DALT");
+    static final Enum DALW = Enum.forString("DALW");
+    static final Enum DAMO = Enum.forString("DAMO");
+    static final Enum DANA = Enum.forString("DANA");
+    static final Enum DANB = Enum.forString("DANB");
+    static final Enum DAND = Enum.forString("DAND");
+    static final Enum DANT = Enum.forString("DANT");
+    static final Enum DANU = Enum.forString("DANU");
+    static final Enum DANZ = Enum.forString("DANZ");
+    static final Enum DARB = Enum.forString("DARB");
+    static final Enum DARC = Enum.forString("DARC");
+    static final Enum DARF = Enum.forString("DARF");
+    static final Enum DARG = Enum.forString("DARG");
+    static final Enum DART = Enum.forString("DART");
+    static final Enum DARV = Enum.forString("DARV");
+    static final Enum DARW = Enum.forString("DARW");
+    static final Enum DATO = Enum.forString("DATO");
+    static final Enum DATR = Enum.forString("DATR");
+    static final Enum DATS = Enum.forString("DATS");
+    static final Enum DAUP = Enum.forString("DAUP");
+    static final Enum DAVC = Enum.forString("DAVC");
+    static final Enum DAVD = Enum.forString("DAVD");
+    static final Enum DAVE = Enum.forString("DAVE");
+    static final Enum DAVI = Enum.forString("DAVI");
+    static final Enum DAVN = Enum.forString("DAVN");
+    static final Enum DAVO = Enum.forString("DAVO");
+    static final Enum DAVY = Enum.forString("DAVY");
+    static final Enum DAWE = Enum.forString("DAWE");
+    static final Enum DAWS = Enum.forString("DAWS");
+    static final Enum DAYB = Enum.forString("DAYB");
+    static final Enum DAYO = Enum.forString("DAYO");
+    static final Enum DAYS = Enum.forString("DAYS");
+    static final Enum DAYT = Enum.forString("DAYT");
+    static final Enum DAZN = Enum.forString("DAZN");
+    static final Enum DB = Enum.forString("DB");
+    static final Enum DBDL = Enum.forString("DBDL");
+    static final Enum DCCS = Enum.forString("DCCS");
+    static final Enum DCNT = Enum.forString("DCNT");
+    static final Enum DCTR = Enum.forString("DCTR");
+    static final Enum DD = Enum.forString("DD");
+    static final Enum DDFB = Enum.forString("DDFB");
+    static final Enum DDTI = Enum.forString("DDTI");
+    static final Enum DEAL = Enum.forString("DEAL");
+    static final Enum DEAN = Enum.forString("DEAN");
+    static final Enum DEBO = Enum.forString("DEBO");
+    static final Enum DECA = Enum.forString("DECA");
+    static final Enum DECO = Enum.forString("DECO");
+    static final Enum DEEP = Enum.forString("DEEP");
+    static final Enum DEER = Enum.forString("DEER");
+    static final Enum DEGE = Enum.forString("DEGE");
+    static final Enum DEGL = Enum.forString("DEGL");
+    static final Enum DEIC = Enum.forString("DEIC");
+    static final Enum DEKC = Enum.forString("DEKC");
+    static final Enum DELA = Enum.forString("DELA");
+    static final Enum DELH = Enum.forString("DELH");
+    static final Enum DELK = Enum.forString("DELK");
+    static final Enum DELL = Enum.forString("DELL");
+    static final Enum DELM = Enum.forString("DELM");
+    static final Enum DELN = Enum.forString("DELN");
+    static final Enum DELO = Enum.forString("DELO");
+    static final Enum DELP = Enum.forString("DELP");
+    static final Enum DELR = Enum.forString("DELR");
+    static final Enum DELS = Enum.forString("DELS");
+    static final Enum DELT = Enum.forString("DELT");
+    static final Enum DELU = Enum.forString("DELU");
+    static final Enum DELX = Enum.forString("DELX");
+    static final Enum DEMC = Enum.forString("DEMC");
+    static final Enum DEMM = Enum.forString("DEMM");
+    static final Enum DEMP = Enum.forString("DEMP");
+    static final Enum DEMU = Enum.forString("DEMU");
+    static final Enum DENC = Enum.forString("DENC");
+    static final Enum DENE = Enum.forString("DENE");
+    static final Enum DENN = Enum.forString("DENN");
+    static final Enum DENZ = Enum.forString("DENZ");
+    static final Enum DERB = Enum.forString("DERB");
+    static final Enum DERE = Enum.forString("DERE");
+    static final Enum DERH = Enum.forString("DERH");
+    static final Enum DESA = Enum.forString("DESA");
+    static final Enum DESG = Enum.forString("DESG");
+    static final Enum DESI = Enum.forString("DESI");
+    static final Enum DESO = Enum.forString("DESO");
+    static final Enum DESP = Enum.forString("DESP");
+    static final Enum DEST = Enum.forString("DEST");
+    static final Enum DETE = Enum.forString("DETE");
+    static final Enum DETH = Enum.forString("DETH");
+    static final Enum DETI = Enum.forString("DETI");
+    static final Enum DETO = Enum.forString("DETO");
+    static final Enum DEUT = Enum.forString("DEUT");
+    static final Enum DEVI = Enum.forString("DEVI");
+    static final Enum DEVL = Enum.forString("DEVL");
+    static final Enum DEVN = Enum.forString("DEVN");
+    static final Enum DEWE = Enum.forString("DEWE");
+    static final Enum DEWL = Enum.forString("DEWL");
+    static final Enum DIAB = Enum.forString("DIAB");
+    static final Enum DIAC = Enum.forString("DIAC");
+    static final Enum DIAD = Enum.forString("DIAD");
+    static final Enum DIAG = Enum.forString("DIAG");
+    static final Enum DIAM = Enum.forString("DIAM");
+    static final Enum DIAO = Enum.forString("DIAO");
+    static final Enum DIAR = Enum.forString("DIAR");
+    static final Enum DIAS = Enum.forString("DIAS");
+    static final Enum DIAT = Enum.forString("DIAT");
+    static final Enum DICH = Enum.forString("DICH");
+    static final Enum DICK = Enum.forString("DICK");
+    static final Enum DICO = Enum.forString("DICO");
+    static final Enum DIDI = Enum.forString("DIDI");
+    static final Enum DIGM = Enum.forString("DIGM");
+    static final Enum DILL = Enum.forString("DILL");
+    static final Enum DILM = Enum.forString("DILM");
+    static final Enum DILO = Enum.forString("DILO");
+    static final Enum DILY = Enum.forString("DILY");
+    static final Enum DINA = Enum.forString("DINA");
+    static final Enum DINL = Enum.forString("DINL");
+    static final Enum DIPL = Enum.forString("DIPL");
+    static final Enum DISC = Enum.forString("DISC");
+    static final Enum DITC = Enum.forString("DITC");
+    static final Enum DITE = Enum.forString("DITE");
+    static final Enum DITR = Enum.forString("DITR");
+    static final Enum DIVA = Enum.forString("DIVA");
+    static final Enum DIVC = Enum.forString("DIVC");
+    static final Enum DIVE = Enum.forString("DIVE");
+    static final Enum DIVO = Enum.forString("DIVO");
+    static final Enum DIXE = Enum.forString("DIXE");
+    static final Enum DIXI = Enum.forString("DIXI");
+    static final Enum DIXO = Enum.forString("DIXO");
+    static final Enum DKR = Enum.forString("DKR");
+    static final Enum DKW = Enum.forString("DKW");
+    static final Enum DLHY = Enum.forString("DLHY");
+    static final Enum DLPE = Enum.forString("DLPE");
+    static final Enum DLPH = Enum.forString("DLPH");
+    static final Enum DM = Enum.forString("DM");
+    static final Enum DMHC = Enum.forString("DMHC");
+    static final Enum DMI = Enum.forString("DMI");
+    static final Enum DMP = Enum.forString("DMP");
+    static final Enum DMVE = Enum.forString("DMVE");
+    static final Enum DODD = Enum.forString("DODD");
+    static final Enum DODE = Enum.forString("DODE");
+    static final Enum DODG = Enum.forString("DODG");
+    static final Enum DOEP = Enum.forString("DOEP");
+    static final Enum DOLA = Enum.forString("DOLA");
+    static final Enum DOLI = Enum.forString("DOLI");
+    static final Enum DOMI = Enum.forString("DOMI");
+    static final Enum DOMO = Enum.forString("DOMO");
+    static final Enum DONA = Enum.forString("DONA");
+    static final Enum DONG = Enum.forString("DONG");
+    static final Enum DONH = Enum.forString("DONH");
+    static final Enum DONL = Enum.forString("DONL");
+    static final Enum DONM = Enum.forString("DONM");
+    static final Enum DONS = Enum.forString("DONS");
+    static final Enum DONU = Enum.forString("DONU");
+    static final Enum DOO = Enum.forString("DOO");
+    static final Enum DOOL = Enum.forString("DOOL");
+    static final Enum DOON = Enum.forString("DOON");
+    static final Enum DORI = Enum.forString("DORI");
+    static final Enum DORS = Enum.forString("DORS");
+    static final Enum DORT = Enum.forString("DORT");
+    static final Enum DOT = Enum.forString("DOT");
+    static final Enum DOUB = Enum.forString("DOUB");
+    static final Enum DOUD = Enum.forString("DOUD");
+    static final Enum DOUE = Enum.forString("DOUE");
+    static final Enum DOUG = Enum.forString("DOUG");
+    static final Enum DOUJ = Enum.forString("DOUJ");
+    static final Enum DOWE = Enum.forString("DOWE");
+    static final Enum DOWH = Enum.forString("DOWH");
+    static final Enum DPWC = Enum.forString("DPWC");
+    static final Enum DRAG = Enum.forString("DRAG");
+    static final Enum DRAK = Enum.forString("DRAK");
+    static final Enum DRDN = Enum.forString("DRDN");
+    static final Enum DREA = Enum.forString("DREA");
+    static final Enum DRES = Enum.forString("DRES");
+    static final Enum DRGL = Enum.forString("DRGL");
+    static final Enum DRIE = Enum.forString("DRIE");
+    static final Enum DRIF = Enum.forString("DRIF");
+    static final Enum DRIV = Enum.forString("DRIV");
+    static final Enum DRML = Enum.forString("DRML");
+    static final Enum DROP = Enum.forString("DROP");
+    static final Enum DROT = Enum.forString("DROT");
+    static final Enum DRSN = Enum.forString("DRSN");
+    static final Enum DRYD = Enum.forString("DRYD");
+    static final Enum DSPD = Enum.forString("DSPD");
+    static final Enum DSSC = Enum.forString("DSSC");
+    static final Enum DSWS = Enum.forString("DSWS");
+    static final Enum DTCH = Enum.forString("DTCH");
+    static final Enum DTRL = Enum.forString("DTRL");
+    static final Enum DTRV = Enum.forString("DTRV");
+    static final Enum DUAE = Enum.forString("DUAE");
+    static final Enum DUAL = Enum.forString("DUAL");
+    static final Enum DUAM = Enum.forString("DUAM");
+    static final Enum DUCA = Enum.forString("DUCA");
+    static final Enum DUDE = Enum.forString("DUDE");
+    static final Enum DUEL = Enum.forString("DUEL");
+    static final Enum DUES = Enum.forString("DUES");
+    static final Enum DUGA = Enum.forString("DUGA");
+    static final Enum DUGO = Enum.forString("DUGO");
+    static final Enum DUKE = Enum.forString("DUKE");
+    static final Enum DUNB = Enum.forString("DUNB");
+    static final Enum DUNH = Enum.forString("DUNH");
+    static final Enum DUNL = Enum.forString("DUNL");
+    static final Enum DUNR = Enum.forString("DUNR");
+    static final Enum DUPA = Enum.forString("DUPA");
+    static final Enum DUPL = Enum.forString("DUPL");
+    static final Enum DUPX = Enum.forString("DUPX");
+    static final Enum DURA = Enum.forString("DURA");
+    static final Enum DURB = Enum.forString("DURB");
+    static final Enum DURC = Enum.forString("DURC");
+    static final Enum DURE = Enum.forString("DURE");
+    static final Enum DURI = Enum.forString("DURI");
+    static final Enum DURO = Enum.forString("DURO");
+    static final Enum DUTC = Enum.forString("DUTC");
+    static final Enum DUTE = Enum.forString("DUTE");
+    static final Enum DUTT = Enum.forString("DUTT");
+    static final Enum DWNS = Enum.forString("DWNS");
+    static final Enum DWTE = Enum.forString("DWTE");
+    static final Enum DYCY = Enum.forString("DYCY");
+    static final Enum DYMC = Enum.forString("DYMC");
+    static final Enum DYNA = Enum.forString("DYNA");
+    static final Enum DYNC = Enum.forString("DYNC");
+    static final Enum DYNM = Enum.forString("DYNM");
+    static final Enum DYNS = Enum.forString("DYNS");
+    static final Enum DYNW = Enum.forString("DYNW");
+    static final Enum DYTC = Enum.forString("DYTC");
+    static final Enum EACR = Enum.forString("EACR");
+    static final Enum EADU = Enum.forString("EADU");
+    static final Enum EAGB = Enum.forString("EAGB");
+    static final Enum EAGC = Enum.forString("EAGC");
+    static final Enum EAGE = Enum.forString("EAGE");
+    static final Enum EAGI = Enum.forString("EAGI");
+    static final Enum EAGL = Enum.forString("EAGL");
+    static final Enum EALO = Enum.forString("EALO");
+    static final Enum EARI = Enum.forString("EARI");
+    static final Enum EASE = Enum.forString("EASE");
+    static final Enum EASM = Enum.forString("EASM");
+    static final Enum EAST = Enum.forString("EAST");
+    static final Enum EASU = Enum.forString("EASU");
+    static final Enum EASW = Enum.forString("EASW");
+    static final Enum EASY = Enum.forString("EASY");
+    static final Enum EATN = Enum.forString("EATN");
+    static final Enum EATO = Enum.forString("EATO");
+    static final Enum EATR = Enum.forString("EATR");
+    static final Enum EBON = Enum.forString("EBON");
+    static final Enum ECMY = Enum.forString("ECMY");
+    static final Enum ECNO = Enum.forString("ECNO");
+    static final Enum ECOB = Enum.forString("ECOB");
+    static final Enum ECOF = Enum.forString("ECOF");
+    static final Enum ECON = Enum.forString("ECON");
+    static final Enum ECSA = Enum.forString("ECSA");
+    static final Enum ECTA = Enum.forString("ECTA");
+    static final Enum EDEY = Enum.forString("EDEY");
+    static final Enum EDSE = Enum.forString("EDSE");
+    static final Enum EDWA = Enum.forString("EDWA");
+    static final Enum EDWN = Enum.forString("EDWN");
+    static final Enum EEE = Enum.forString("EEE");
+    static final Enum EEZY = Enum.forString("EEZY");
+    static final Enum EGIL = Enum.forString("EGIL");
+    static final Enum EGLE = Enum.forString("EGLE");
+    static final Enum EHMC = Enum.forString("EHMC");
+    static final Enum EIDA = Enum.forString("EIDA");
+    static final Enum EIDL = Enum.forString("EIDL");
+    static final Enum EIGH = Enum.forString("EIGH");
+    static final Enum EJAY = Enum.forString("EJAY");
+    static final Enum EKCH = Enum.forString("EKCH");
+    static final Enum ELCA = Enum.forString("ELCA");
+    static final Enum ELCO = Enum.forString("ELCO");
+    static final Enum ELCT = Enum.forString("ELCT");
+    static final Enum ELCY = Enum.forString("ELCY");
+    static final Enum ELDC = Enum.forString("ELDC");
+    static final Enum ELDE = Enum.forString("ELDE");
+    static final Enum ELDO = Enum.forString("ELDO");
+    static final Enum ELEC = Enum.forString("ELEC");
+    static final Enum ELET = Enum.forString("ELET");
+    static final Enum ELGI = Enum.forString("ELGI");
+    static final Enum ELGN = Enum.forString("ELGN");
+    static final Enum ELIT = Enum.forString("ELIT");
+    static final Enum ELJA = Enum.forString("ELJA");
+    static final Enum ELKA = Enum.forString("ELKA");
+    static final Enum ELKH = Enum.forString("ELKH");
+    static final Enum ELLE = Enum.forString("ELLE");
+    static final Enum ELLI = Enum.forString("ELLI");
+    static final Enum ELLS = Enum.forString("ELLS");
+    static final Enum ELMA = Enum.forString("ELMA");
+    static final Enum ELVA = Enum.forString("ELVA");
+    static final Enum ELVC = Enum.forString("ELVC");
+    static final Enum ELVT = Enum.forString("ELVT");
+    static final Enum EMBA = Enum.forString("EMBA");
+    static final Enum EMBB = Enum.forString("EMBB");
+    static final Enum EMCO = Enum.forString("EMCO");
+    static final Enum EMER = Enum.forString("EMER");
+    static final Enum EMME = Enum.forString("EMME");
+    static final Enum EMML = Enum.forString("EMML");
+    static final Enum EMON = Enum.forString("EMON");
+    static final Enum EMPC = Enum.forString("EMPC");
+    static final Enum EMPG = Enum.forString("EMPG");
+    static final Enum EMPI = Enum.forString("EMPI");
+    static final Enum EMPL = Enum.forString("EMPL");
+    static final Enum EMPR = Enum.forString("EMPR");
+    static final Enum EMW = Enum.forString("EMW");
+    static final Enum ENCO = Enum.forString("ENCO");
+    static final Enum ENCR = Enum.forString("ENCR");
+    static final Enum ENER = Enum.forString("ENER");
+    static final Enum ENGF = Enum.forString("ENGF");
+    static final Enum ENGI = Enum.forString("ENGI");
+    static final Enum ENGL = Enum.forString("ENGL");
+    static final Enum ENGN = Enum.forString("ENGN");
+    static final Enum ENMC = Enum.forString("ENMC");
+    static final Enum ENPR = Enum.forString("ENPR");
+    static final Enum ENRT = Enum.forString("ENRT");
+    static final Enum ENSE = Enum.forString("ENSE");
+    static final Enum ENTR = Enum.forString("ENTR");
+    static final Enum ENVA = Enum.forString("ENVA");
+    static final Enum ENVI = Enum.forString("ENVI");
+    static final Enum ENVY = Enum.forString("ENVY");
+    static final Enum ENZM = Enum.forString("ENZM");
+    static final Enum EQPR = Enum.forString("EQPR");
+    static final Enum ERCE = Enum.forString("ERCE");
+    static final Enum EREK = Enum.forString("EREK");
+    static final Enum ERIC = Enum.forString("ERIC");
+    static final Enum ERIE = Enum.forString("ERIE");
+    static final Enum ERIG = Enum.forString("ERIG");
+    static final Enum ERIN = Enum.forString("ERIN");
+    static final Enum ERIS = Enum.forString("ERIS");
+    static final Enum ERMC = Enum.forString("ERMC");
+    static final Enum ERSK = Enum.forString("ERSK");
+    static final Enum ESCA = Enum.forString("ESCA");
+    static final Enum ESCC = Enum.forString("ESCC");
+    static final Enum ESCO = Enum.forString("ESCO");
+    static final Enum ESCP = Enum.forString("ESCP");
+    static final Enum ESCT = Enum.forString("ESCT");
+    static final Enum ESHL = Enum.forString("ESHL");
+    static final Enum ESIX = Enum.forString("ESIX");
+    static final Enum ESQU = Enum.forString("ESQU");
+    static final Enum ESSE = Enum.forString("ESSE");
+    static final Enum ESSI = Enum.forString("ESSI");
+    static final Enum ESSK = Enum.forString("ESSK");
+    static final Enum ESTA = Enum.forString("ESTA");
+    static final Enum ESTE = Enum.forString("ESTE");
+    static final Enum ESTM = Enum.forString("ESTM");
+    static final Enum ETNY = Enum.forString("ETNY");
+    static final Enum ETON = Enum.forString("ETON");
+    static final Enum ETXL = Enum.forString("ETXL");
+    static final Enum EUCL = Enum.forString("EUCL");
+    static final Enum EVAN = Enum.forString("EVAN");
+    static final Enum EVAP = Enum.forString("EVAP");
+    static final Enum EVAS = Enum.forString("EVAS");
+    static final Enum EVEN = Enum.forString("EVEN");
+    static final Enum EVER = Enum.forString("EVER");
+    static final Enum EVES = Enum.forString("EVES");
+    static final Enum EVIN = Enum.forString("EVIN");
+    static final Enum EVLT = Enum.forString("EVLT");
+    static final Enum EVRY = Enum.forString("EVRY");
+    static final Enum EWAL = Enum.forString("EWAL");
+    static final Enum EXC = Enum.forString("EXC");
+    static final Enum EXCE = Enum.forString("EXCE");
+    static final Enum EXCI = Enum.forString("EXCI");
+    static final Enum EXCL = Enum.forString("EXCL");
+    static final Enum EXCR = Enum.forString("EXCR");
+    static final Enum EXCY = Enum.forString("EXCY");
+    static final Enum EXEC = Enum.forString("EXEC");
+    static final Enum EXEZ = Enum.forString("EXEZ");
+    static final Enum EXHE = Enum.forString("EXHE");
+    static final Enum EXIS = Enum.forString("EXIS");
+    static final Enum EXPD = Enum.forString("EXPD");
+    static final Enum EXPL = Enum.forString("EXPL");
+    static final Enum EXTL = Enum.forString("EXTL");
+    static final Enum EXTO = Enum.forString("EXTO");
+    static final Enum EZAC = Enum.forString("EZAC");
+    static final Enum EZCK = Enum.forString("EZCK");
+    static final Enum EZHA = Enum.forString("EZHA");
+    static final Enum EZLD = Enum.forString("EZLD");
+    static final Enum EZUT = Enum.forString("EZUT");
+    static final Enum EZZY = Enum.forString("EZZY");
+    static final Enum FAAL = Enum.forString("FAAL");
+    static final Enum FABC = Enum.forString("FABC");
+    static final Enum FABO = Enum.forString("FABO");
+    static final Enum FACE = Enum.forString("FACE");
+    static final Enum FACL = Enum.forString("FACL");
+    static final Enum FACT = Enum.forString("FACT");
+    static final Enum FAIH = Enum.forString("FAIH");
+    static final Enum FAIM = Enum.forString("FAIM");
+    static final Enum FAIR = Enum.forString("FAIR");
+    static final Enum FALC = Enum.forString("FALC");
+    static final Enum FALL = Enum.forString("FALL");
+    static final Enum FALM = Enum.forString("FALM");
+    static final Enum FALN = Enum.forString("FALN");
+    static final Enum FAN = Enum.forString("FAN");
+    static final Enum FARG = Enum.forString("FARG");
+    static final Enum FARH = Enum.forString("FARH");
+    static final Enum FARK = Enum.forString("FARK");
+    static final Enum FARM = Enum.forString("FARM");
+    static final Enum FARW = Enum.forString("FARW");
+    static final Enum FAST = Enum.forString("FAST");
+    static final Enum FATC = Enum.forString("FATC");
+    static final Enum FAWN = Enum.forString("FAWN");
+    static final Enum FAYE = Enum.forString("FAYE");
+    static final Enum FECH = Enum.forString("FECH");
+    static final Enum FEDE = Enum.forString("FEDE");
+    static final Enum FEDL = Enum.forString("FEDL");
+    static final Enum FELB = Enum.forString("FELB");
+    static final Enum FELD = Enum.forString("FELD");
+    static final Enum FELL = Enum.forString("FELL");
+    static final Enum FELP = Enum.forString("FELP");
+    static final Enum FEMC = Enum.forString("FEMC");
+    static final Enum FERE = Enum.forString("FERE");
+    static final Enum FERG = Enum.forString("FERG");
+    static final Enum FERR = Enum.forString("FERR");
+    static final Enum FERT = Enum.forString("FERT");
+    static final Enum FEST = Enum.forString("FEST");
+    static final Enum FETE = Enum.forString("FETE");
+    static final Enum FEYF = Enum.forString("FEYF");
+    static final Enum FHL = Enum.forString("FHL");
+    static final Enum FHMC = Enum.forString("FHMC");
+    static final Enum FIAA = Enum.forString("FIAA");
+    static final Enum FIAC = Enum.forString("FIAC");
+    static final Enum FIAL = Enum.forString("FIAL");
+    static final Enum FIAT = Enum.forString("FIAT");
+    static final Enum FIBE = Enum.forString("FIBE");
+    static final Enum FIBI = Enum.forString("FIBI");
+    static final Enum FIEA = Enum.forString("FIEA");
+    static final Enum FIED = Enum.forString("FIED");
+    static final Enum FIEL = Enum.forString("FIEL");
+    static final Enum FIEM = Enum.forString("FIEM");
+    static final Enum FIES = Enum.forString("FIES");
+    static final Enum FIFE = Enum.forString("FIFE");
+    static final Enum FIGU = Enum.forString("FIGU");
+    static final Enum FIKO = Enum.forString("FIKO");
+    static final Enum FILK = Enum.forString("FILK");
+    static final Enum FINN = Enum.forString("FINN");
+    static final Enum FIRB = Enum.forString("FIRB");
+    static final Enum FIRE = Enum.forString("FIRE");
+    static final Enum FIRS = Enum.forString("FIRS");
+    static final Enum FIRT = Enum.forString("FIRT");
+    static final Enum FISC = Enum.forString("FISC");
+    static final Enum FIST = Enum.forString("FIST");
+    static final Enum FIVE = Enum.forString("FIVE");
+    static final Enum FIVK = Enum.forString("FIVK");
+    static final Enum FLAG = Enum.forString("FLAG");
+    static final Enum FLAH = Enum.forString("FLAH");
+    static final Enum FLAI = Enum.forString("FLAI");
+    static final Enum FLAM = Enum.forString("FLAM");
+    static final Enum FLAN = Enum.forString("FLAN");
+    static final Enum FLAS = Enum.forString("FLAS");
+    static final Enum FLBR = Enum.forString("FLBR");
+    static final Enum FLE = Enum.forString("FLE");
+    static final Enum FLEA = Enum.forString("FLEA");
+    static final Enum FLEE = Enum.forString("FLEE");
+    static final Enum FLEI = Enum.forString("FLEI");
+    static final Enum FLEM = Enum.forString("FLEM");
+    static final Enum FLEN = Enum.forString("FLEN");
+    static final Enum FLEO = Enum.forString("FLEO");
+    static final Enum FLEX = Enum.forString("FLEX");
+    static final Enum FLIN = Enum.forString("FLIN");
+    static final Enum FLMG = Enum.forString("FLMG");
+    static final Enum FLMR = Enum.forString("FLMR");
+    static final Enum FLNG = Enum.forString("FLNG");
+    static final Enum FLOA = Enum.forString("FLOA");
+    static final Enum FLOD = Enum.forString("FLOD");
+    static final Enum FLOE = Enum.forString("FLOE");
+    static final Enum FLOI = Enum.forString("FLOI");
+    static final Enum FLOR = Enum.forString("FLOR");
+    static final Enum FLOT = Enum.forString("FLOT");
+    static final Enum FLOW = Enum.forString("FLOW");
+    static final Enum FLYI = Enum.forString("FLYI");
+    static final Enum FLYL = Enum.forString("FLYL");
+    static final Enum FMC = Enum.forString("FMC");
+    static final Enum FMSH = Enum.forString("FMSH");
+    static final Enum FN = Enum.forString("FN");
+    static final Enum FNM = Enum.forString("FNM");
+    static final Enum FNTM = Enum.forString("FNTM");
+    static final Enum FOLA = Enum.forString("FOLA");
+    static final Enum FOML = Enum.forString("FOML");
+    static final Enum FOMO = Enum.forString("FOMO");
+    static final Enum FONA = Enum.forString("FONA");
+    static final Enum FONT = Enum.forString("FONT");
+    static final Enum FOOT = Enum.forString("FOOT");
+    static final Enum FOR = Enum.forString("FOR");
+    static final Enum FORA = Enum.forString("FORA");
+    static final Enum FORC = Enum.forString("FORC");
+    static final Enum FORD = Enum.forString("FORD");
+    static final Enum FORE = Enum.forString("FORE");
+    static final Enum FORF = Enum.forString("FORF");
+    static final Enum FORG = Enum.forString("FORG");
+    static final Enum FORH = Enum.forString("FORH");
+    static final Enum FORI = Enum.forString("FORI");
+    static final Enum FORL = Enum.forString("FORL");
+    static final Enum FORN = Enum.forString("FORN");
+    static final Enum FORR = Enum.forString("FORR");
+    static final Enum FORS = Enum.forString("FORS");
+    static final Enum FORT = Enum.forString("FORT");
+    static final Enum FORU = Enum.forString("FORU");
+    static final Enum FOSJ = Enum.forString("FOSJ");
+    static final Enum FOST = Enum.forString("FOST");
+    static final Enum FOTX = Enum.forString("FOTX");
+    static final Enum FOUN = Enum.forString("FOUN");
+    static final Enum FOUR = Enum.forString("FOUR");
+    static final Enum FOUS = Enum.forString("FOUS");
+    static final Enum FOUT = Enum.forString("FOUT");
+    static final Enum FOUW = Enum.forString("FOUW");
+    static final Enum FOWN = Enum.forString("FOWN");
+    static final Enum FOX = Enum.forString("FOX");
+    static final Enum FOXI = Enum.forString("FOXI");
+    static final Enum FRAC = Enum.forString("FRAC");
+    static final Enum FRAI = Enum.forString("FRAI");
+    static final Enum FRAK = Enum.forString("FRAK");
+    static final Enum FRAN = Enum.forString("FRAN");
+    static final Enum FRAZ = Enum.forString("FRAZ");
+    static final Enum FRBA = Enum.forString("FRBA");
+    static final Enum FRCS = Enum.forString("FRCS");
+    static final Enum FREA = Enum.forString("FREA");
+    static final Enum FRED = Enum.forString("FRED");
+    static final Enum FREE = Enum.forString("FREE");
+    static final Enum FREF = Enum.forString("FREF");
+    static final Enum FREN = Enum.forString("FREN");
+    static final Enum FRES = Enum.forString("FRES");
+    static final Enum FRHH = Enum.forString("FRHH");
+    static final Enum FRHT = Enum.forString("FRHT");
+    static final Enum FRIE = Enum.forString("FRIE");
+    static final Enum FRIG = Enum.forString("FRIG");
+    static final Enum FRIS = Enum.forString("FRIS");
+    static final Enum FRNA = Enum.forString("FRNA");
+    static final Enum FRNK = Enum.forString("FRNK");
+    static final Enum FROL = Enum.forString("FROL");
+    static final Enum FRON = Enum.forString("FRON");
+    static final Enum FROS = Enum.forString("FROS");
+    static final Enum FRRS = Enum.forString("FRRS");
+    static final Enum FRRV = Enum.forString("FRRV");
+    static final Enum FRTV = Enum.forString("FRTV");
+    static final Enum FRUE = Enum.forString("FRUE");
+    static final Enum FRUN = Enum.forString("FRUN");
+    static final Enum FRYE = Enum.forString("FRYE");
+    static final Enum FSLD = Enum.forString("FSLD");
+    static final Enum FSTL = Enum.forString("FSTL");
+    static final Enum FTRC = Enum.forString("FTRC");
+    static final Enum FTWD = Enum.forString("FTWD");
+    static final Enum FUER = Enum.forString("FUER");
+    static final Enum FUJI = Enum.forString("FUJI");
+    static final Enum FULL = Enum.forString("FULL");
+    static final Enum FULT = Enum.forString("FULT");
+    static final Enum FUNL = Enum.forString("FUNL");
+    static final Enum FUNT = Enum.forString("FUNT");
+    static final Enum FUQU = Enum.forString("FUQU");
+    static final Enum FURA = Enum.forString("FURA");
+    static final Enum FUTR = Enum.forString("FUTR");
+    static final Enum FUTU = Enum.forString("FUTU");
+    static final Enum FWD = Enum.forString("FWD");
+    static final Enum GAAC = Enum.forString("GAAC");
+    static final Enum GABB = Enum.forString("GABB");
+    static final Enum GABR = Enum.forString("GABR");
+    static final Enum GADA = Enum.forString("GADA");
+    static final Enum GADB = Enum.forString("GADB");
+    static final Enum GAFN = Enum.forString("GAFN");
+    static final Enum GALA = Enum.forString("GALA");
+    static final Enum GALB = Enum.forString("GALB");
+    static final Enum GALI = Enum.forString("GALI");
+    static final Enum GALT = Enum.forString("GALT");
+    static final Enum GANN = Enum.forString("GANN");
+    static final Enum GARB = Enum.forString("GARB");
+    static final Enum GARD = Enum.forString("GARD");
+    static final Enum GARE = Enum.forString("GARE");
+    static final Enum GARH = Enum.forString("GARH");
+    static final Enum GARL = Enum.forString("GARL");
+    static final Enum GARN = Enum.forString("GARN");
+    static final Enum GARO = Enum.forString("GARO");
+    static final Enum GARP = Enum.forString("GARP");
+    static final Enum GARR = Enum.forString("GARR");
+    static final Enum GARS = Enum.forString("GARS");
+    static final Enum GARY = Enum.forString("GARY");
+    static final Enum GASE = Enum.forString("GASE");
+    static final Enum GAST = Enum.forString("GAST");
+    static final Enum GATE = Enum.forString("GATE");
+    static final Enum GATO = Enum.forString("GATO");
+    static final Enum GATP = Enum.forString("GATP");
+    static final Enum GAZ = Enum.forString("GAZ");
+    static final Enum GBCO = Enum.forString("GBCO");
+    static final Enum GCMC = Enum.forString("GCMC");
+    static final Enum GDAN = Enum.forString("GDAN");
+    static final Enum GE = Enum.forString("GE");
+    static final Enum GECI = Enum.forString("GECI");
+    static final Enum GEEB = Enum.forString("GEEB");
+    static final Enum GEEC = Enum.forString("GEEC");
+    static final Enum GEEL = Enum.forString("GEEL");
+    static final Enum GEEN = Enum.forString("GEEN");
+    static final Enum GEER = Enum.forString("GEER");
+    static final Enum GEHL = Enum.forString("GEHL");
+    static final Enum GELT = Enum.forString("GELT");
+    static final Enum GEM = Enum.forString("GEM");
+    static final Enum GEMI = Enum.forString("GEMI");
+    static final Enum GEMT = Enum.forString("GEMT");
+    static final Enum GEN = Enum.forString("GEN");
+    static final Enum GENA = Enum.forString("GENA");
+    static final Enum GENC = Enum.forString("GENC");
+    static final Enum GENE = Enum.forString("GENE");
+    static final Enum GENF = Enum.forString("GENF");
+    static final Enum GENG = Enum.forString("GENG");
+    static final Enum GENH = Enum.forString("GENH");
+    static final Enum GENI = Enum.forString("GENI");
+    static final Enum GENM = Enum.forString("GENM");
+    static final Enum GENR = Enum.forString("GENR");
+    static final Enum GENT = Enum.forString("GENT");
+    static final Enum GEO = Enum.forString("GEO");
+    static final Enum GEOR = Enum.forString("GEOR");
+    static final Enum GEOT = Enum.forString("GEOT");
+    static final Enum GERA = Enum.forString("GERA");
+    static final Enum GERC = Enum.forString("GERC");
+    static final Enum GERL = Enum.forString("GERL");
+    static final Enum GERR = Enum.forString("GERR");
+    static final Enum GETM = Enum.forString("GETM");
+    static final Enum GFHT = Enum.forString("GFHT");
+    static final Enum GFST = Enum.forString("GFST");
+    static final Enum GFTR = Enum.forString("GFTR");
+    static final Enum GHIE = Enum.forString("GHIE");
+    static final Enum GHMI = Enum.forString("GHMI");
+    static final Enum GIAA = Enum.forString("GIAA");
+    static final Enum GIAN = Enum.forString("GIAN");
+    static final Enum GIAT = Enum.forString("GIAT");
+    static final Enum GIBL = Enum.forString("GIBL");
+    static final Enum GIBR = Enum.forString("GIBR");
+    static final Enum GIDD = Enum.forString("GIDD");
+    static final Enum GIGI = Enum.forString("GIGI");
+    static final Enum GILB = Enum.forString("GILB");
+    static final Enum GILD = Enum.forString("GILD");
+    static final Enum GILE = Enum.forString("GILE");
+    static final Enum GILG = Enum.forString("GILG");
+    static final Enum GILL = Enum.forString("GILL");
+    static final Enum GILM = Enum.forString("GILM");
+    static final Enum GILS = Enum.forString("GILS");
+    static final Enum GILT = Enum.forString("GILT");
+    static final Enum GIND = Enum.forString("GIND");
+    static final Enum GINE = Enum.forString("GINE");
+    static final Enum GINR = Enum.forString("GINR");
+    static final Enum GIRA = Enum.forString("GIRA");
+    static final Enum GISN = Enum.forString("GISN");
+    static final Enum GITA = Enum.forString("GITA");
+    static final Enum GIVE = Enum.forString("GIVE");
+    static final Enum GLAD = Enum.forString("GLAD");
+    static final Enum GLAS = Enum.forString("GLAS");
+    static final Enum GLAT = Enum.forString("GLAT");
+    static final Enum GLBE = Enum.forString("GLBE");
+    static final Enum GLBL = Enum.forString("GLBL");
+    static final Enum GLCG = Enum.forString("GLCG");
+    static final Enum GLEA = Enum.forString("GLEA");
+    static final Enum GLEB = Enum.forString("GLEB");
+    static final Enum GLEC = Enum.forString("GLEC");
+    static final Enum GLEH = Enum.forString("GLEH");
+    static final Enum GLEL = Enum.forString("GLEL");
+    static final Enum GLEN = Enum.forString("GLEN");
+    static final Enum GLFI = Enum.forString("GLFI");
+    static final Enum GLID = Enum.forString("GLID");
+    static final Enum GLIT = Enum.forString("GLIT");
+    static final Enum GLMB = Enum.forString("GLMB");
+    static final Enum GLND = Enum.forString("GLND");
+    static final Enum GLNL = Enum.forString("GLNL");
+    static final Enum GLOB = Enum.forString("GLOB");
+    static final Enum GLOM = Enum.forString("GLOM");
+    static final Enum GLOS = Enum.forString("GLOS");
+    static final Enum GLOV = Enum.forString("GLOV");
+    static final Enum GLRV = Enum.forString("GLRV");
+    static final Enum GLSC = Enum.forString("GLSC");
+    static final Enum GLSS = Enum.forString("GLSS");
+    static final Enum GLST = Enum.forString("GLST");
+    static final Enum GLWO = Enum.forString("GLWO");
+    static final Enum GM = Enum.forString("GM");
+    static final Enum GMC = Enum.forString("GMC");
+    static final Enum GMRE = Enum.forString("GMRE");
+    static final Enum GNMI = Enum.forString("GNMI");
+    static final Enum GNSH = Enum.forString("GNSH");
+    static final Enum GNWF = Enum.forString("GNWF");
+    static final Enum GOAT = Enum.forString("GOAT");
+    static final Enum GOCO = Enum.forString("GOCO");
+    static final Enum GOEB = Enum.forString("GOEB");
+    static final Enum GOFF = Enum.forString("GOFF");
+    static final Enum GOGA = Enum.forString("GOGA");
+    static final Enum GOGE = Enum.forString("GOGE");
+    static final Enum GOGO = Enum.forString("GOGO");
+    static final Enum GOKT = Enum.forString("GOKT");
+    static final Enum GOLA = Enum.forString("GOLA");
+    static final Enum GOLD = Enum.forString("GOLD");
+    static final Enum GOLE = Enum.forString("GOLE");
+    static final Enum GOLI = Enum.forString("GOLI");
+    static final Enum GOLK = Enum.forString("GOLK");
+    static final Enum GOLL = Enum.forString("GOLL");
+    static final Enum GOLM = Enum.forString("GOLM");
+    static final Enum GOLN = Enum.forString("GOLN");
+    static final Enum GONA = Enum.forString("GONA");
+    static final Enum GONU = Enum.forString("GONU");
+    static final Enum GOOD = Enum.forString("GOOD");
+    static final Enum GOOS = Enum.forString("GOOS");
+    static final Enum GOOY = Enum.forString("GOOY");
+    static final Enum GORB = Enum.forString("GORB");
+    static final Enum GORD = Enum.forString("GORD");
+    static final Enum GORE = Enum.forString("GORE");
+    static final Enum GORM = Enum.forString("GORM");
+    static final Enum GORO = Enum.forString("GORO");
+    static final Enum GPRX = Enum.forString("GPRX");
+    static final Enum GRAB = Enum.forString("GRAB");
+    static final Enum GRAC = Enum.forString("GRAC");
+    static final Enum GRAD = Enum.forString("GRAD");
+    static final Enum GRAE = Enum.forString("GRAE");
+    static final Enum GRAF = Enum.forString("GRAF");
+    static final Enum GRAH = Enum.forString("GRAH");
+    static final Enum GRAM = Enum.forString("GRAM");
+    static final Enum GRAO = Enum.forString("GRAO");
+    static final Enum GRAP = Enum.forString("GRAP");
+    static final Enum GRAV = Enum.forString("GRAV");
+    static final Enum GRDN = Enum.forString("GRDN");
+    static final Enum GREA = Enum.forString("GREA");
+    static final Enum GREB = Enum.forString("GREB");
+    static final Enum GREE = Enum.forString("GREE");
+    static final Enum GREG = Enum.forString("GREG");
+    static final Enum GREI = Enum.forString("GREI");
+    static final Enum GREL = Enum.forString("GREL");
+    static final Enum GREM = Enum.forString("GREM");
+    static final Enum GREN = Enum.forString("GREN");
+    static final Enum GRER = Enum.forString("GRER");
+    static final Enum GRES = Enum.forString("GRES");
+    static final Enum GREV = Enum.forString("GREV");
+    static final Enum GRIF = Enum.forString("GRIF");
+    static final Enum GRIM = Enum.forString("GRIM");
+    static final Enum GRIZ = Enum.forString("GRIZ");
+    static final Enum GRLK = Enum.forString("GRLK");
+    static final Enum GRNE = Enum.forString("GRNE");
+    static final Enum GRNH = Enum.forString("GRNH");
+    static final Enum GROE = Enum.forString("GROE");
+    static final Enum GROV = Enum.forString("GROV");
+    static final Enum GRRM = Enum.forString("GRRM");
+    static final Enum GRSO = Enum.forString("GRSO");
+    static final Enum GRSP = Enum.forString("GRSP");
+    static final Enum GRUE = Enum.forString("GRUE");
+    static final Enum GRUM = Enum.forString("GRUM");
+    static final Enum GRVE = Enum.forString("GRVE");
+    static final Enum GRVM = Enum.forString("GRVM");
+    static final Enum GRYE = Enum.forString("GRYE");
+    static final Enum GRZL = Enum.forString("GRZL");
+    static final Enum GSCR = Enum.forString("GSCR");
+    static final Enum GSEN = Enum.forString("GSEN");
+    static final Enum GSIN = Enum.forString("GSIN");
+    static final Enum GSM = Enum.forString("GSM");
+    static final Enum GUER = Enum.forString("GUER");
+    static final Enum GUES = Enum.forString("GUES");
+    static final Enum GUID = Enum.forString("GUID");
+    static final Enum GUIZ = Enum.forString("GUIZ");
+    static final Enum GULF = Enum.forString("GULF");
+    static final Enum GUST = Enum.forString("GUST");
+    static final Enum GUTH = Enum.forString("GUTH");
+    static final Enum GUZO = Enum.forString("GUZO");
+    static final Enum GWM = Enum.forString("GWM");
+    static final Enum GYEL = Enum.forString("GYEL");
+    static final Enum GYPS = Enum.forString("GYPS");
+    static final Enum GZL = Enum.forString("GZL");
+    static final Enum HACK = Enum.forString("HACK");
+    static final Enum HADL = Enum.forString("HADL");
+    static final Enum HADX = Enum.forString("HADX");
+    static final Enum HAFA = Enum.forString("HAFA");
+    static final Enum HAFL = Enum.forString("HAFL");
+    static final Enum HAHN = Enum.forString("HAHN");
+    static final Enum HAIR = Enum.forString("HAIR");
+    static final Enum HALC = Enum.forString("HALC");
+    static final Enum HALE = Enum.forString("HALE");
+    static final Enum HALL = Enum.forString("HALL");
+    static final Enum HALM = Enum.forString("HALM");
+    static final Enum HALN = Enum.forString("HALN");
+    static final Enum HALR = Enum.forString("HALR");
+    static final Enum HAMB = Enum.forString("HAMB");
+    static final Enum HAMI = Enum.forString("HAMI");
+    static final Enum HAML = Enum.forString("HAML");
+    static final Enum HAMP = Enum.forString("HAMP");
+    static final Enum HAMR = Enum.forString("HAMR");
+    static final Enum HANK = Enum.forString("HANK");
+    static final Enum HANN = Enum.forString("HANN");
+    static final Enum HANO = Enum.forString("HANO");
+    static final Enum HANS = Enum.forString("HANS");
+    static final Enum HAPP = Enum.forString("HAPP");
+    static final Enum HAPY = Enum.forString("HAPY");
+    static final Enum HARB = Enum.forString("HARB");
+    static final Enum HARC = Enum.forString("HARC");
+    static final Enum HARD = Enum.forString("HARD");
+    static final Enum HARF = Enum.forString("HARF");
+    static final Enum HARG = Enum.forString("HARG");
+    static final Enum HARH = Enum.forString("HARH");
+    static final Enum HARI = Enum.forString("HARI");
+    static final Enum HARK = Enum.forString("HARK");
+    static final Enum HARL = Enum.forString("HARL");
+    static final Enum HARM = Enum.forString("HARM");
+    static final Enum HARN = Enum.forString("HARN");
+    static final Enum HARR = Enum.forString("HARR");
+    static final Enum HART = Enum.forString("HART");
+    static final Enum HARV = Enum.forString("HARV");
+    static final Enum HARW = Enum.forString("HARW");
+    static final Enum HAUA = Enum.forString("HAUA");
+    static final Enum HAUI = Enum.forString("HAUI");
+    static final Enum HAUL = Enum.forString("HAUL");
+    static final Enum HAUR = Enum.forString("HAUR");
+    static final Enum HAUT = Enum.forString("HAUT");
+    static final Enum HAWK = Enum.forString("HAWK");
+    static final Enum HAWN = Enum.forString("HAWN");
+    static final Enum HAWT = Enum.forString("HAWT");
+    static final Enum HAYE = Enum.forString("HAYE");
+    static final Enum HAYN = Enum.forString("HAYN");
+    static final Enum HAYS = Enum.forString("HAYS");
+    static final Enum HBTC = Enum.forString("HBTC");
+    static final Enum HD = Enum.forString("HD");
+    static final Enum HDHM = Enum.forString("HDHM");
+    static final Enum HDMC = Enum.forString("HDMC");
+    static final Enum HDSN = Enum.forString("HDSN");
+    static final Enum HEAL = Enum.forString("HEAL");
+    static final Enum HEAR = Enum.forString("HEAR");
+    static final Enum HEAT = Enum.forString("HEAT");
+    static final Enum HECD = Enum.forString("HECD");
+    static final Enum HECK = Enum.forString("HECK");
+    static final Enum HECO = Enum.forString("HECO");
+    static final Enum HEDW = Enum.forString("HEDW");
+    static final Enum HEIL = Enum.forString("HEIL");
+    static final Enum HEIN = Enum.forString("HEIN");
+    static final Enum HEIT = Enum.forString("HEIT");
+    static final Enum HELM = Enum.forString("HELM");
+    static final Enum HELR = Enum.forString("HELR");
+    static final Enum HELT = Enum.forString("HELT");
+    static final Enum HEND = Enum.forString("HEND");
+    static final Enum HENE = Enum.forString("HENE");
+    static final Enum HENK = Enum.forString("HENK");
+    static final Enum HENM = Enum.forString("HENM");
+    static final Enum HENN = Enum.forString("HENN");
+    static final Enum HENR = Enum.forString("HENR");
+    static final Enum HENS = Enum.forString("HENS");
+    static final Enum HERB = Enum.forString("HERB");
+    static final Enum HERC = Enum.forString("HERC");
+    static final Enum HERD = Enum.forString("HERD");
+    static final Enum HERI = Enum.forString("HERI");
+    static final Enum HERO = Enum.forString("HERO");
+    static final Enum HERR = Enum.forString("HERR");
+    static final Enum HERT = Enum.forString("HERT");
+    static final Enum HERZ = Enum.forString("HERZ");
+    static final Enum HESC = Enum.forString("HESC");
+    static final Enum HESS = Enum.forString("HESS");
+    static final Enum HEST = Enum.forString("HEST");
+    static final Enum HETG = Enum.forString("HETG");
+    static final Enum HEWE = Enum.forString("HEWE");
+    static final Enum HEWI = Enum.forString("HEWI");
+    static final Enum HFTD = Enum.forString("HFTD");
+    static final Enum HGON = Enum.forString("HGON");
+    static final Enum HHTC = Enum.forString("HHTC");
+    static final Enum HI = Enum.forString("HI");
+    static final Enum HIAA = Enum.forString("HIAA");
+    static final Enum HIAB = Enum.forString("HIAB");
+    static final Enum HIAW = Enum.forString("HIAW");
+    static final Enum HIBD = Enum.forString("HIBD");
+    static final Enum HIBT = Enum.forString("HIBT");
+    static final Enum HICH = Enum.forString("HICH");
+    static final Enum HICK = Enum.forString("HICK");
+    static final Enum HICO = Enum.forString("HICO");
+    static final Enum HICS = Enum.forString("HICS");
+    static final Enum HIDE = Enum.forString("HIDE");
+    static final Enum HIGA = Enum.forString("HIGA");
+    static final Enum HIGE = Enum.forString("HIGE");
+    static final Enum HIGH = Enum.forString("HIGH");
+    static final Enum HIGK = Enum.forString("HIGK");
+    static final Enum HIGL = Enum.forString("HIGL");
+    static final Enum HIGW = Enum.forString("HIGW");
+    static final Enum HIGY = Enum.forString("HIGY");
+    static final Enum HIHK = Enum.forString("HIHK");
+    static final Enum HILB = Enum.forString("HILB");
+    static final Enum HILC = Enum.forString("HILC");
+    static final Enum HILD = Enum.forString("HILD");
+    static final Enum HILF = Enum.forString("HILF");
+    static final Enum HILI = Enum.forString("HILI");
+    static final Enum HILL = Enum.forString("HILL");
+    static final Enum HILM = Enum.forString("HILM");
+    static final Enum HILO = Enum.forString("HILO");
+    static final Enum HILP = Enum.forString("HILP");
+    static final Enum HILS = Enum.forString("HILS");
+    static final Enum HILT = Enum.forString("HILT");
+    static final Enum HIND = Enum.forString("HIND");
+    static final Enum HINE = Enum.forString("HINE");
+    static final Enum HINO = Enum.forString("HINO");
+    static final Enum HINS = Enum.forString("HINS");
+    static final Enum HINT = Enum.forString("HINT");
+    static final Enum HIRE = Enum.forString("HIRE");
+    static final Enum HIST = Enum.forString("HIST");
+    static final Enum HITC = Enum.forString("HITC");
+    static final Enum HIUT = Enum.forString("HIUT");
+    static final Enum HIWY = Enum.forString("HIWY");
+    static final Enum HKEG = Enum.forString("HKEG");
+    static final Enum HKRY = Enum.forString("HKRY");
+    static final Enum HLDH = Enum.forString("HLDH");
+    static final Enum HLFM = Enum.forString("HLFM");
+    static final Enum HLPK = Enum.forString("HLPK");
+    static final Enum HLRI = Enum.forString("HLRI");
+    static final Enum HLWD = Enum.forString("HLWD");
+    static final Enum HM = Enum.forString("HM");
+    static final Enum HMDE = Enum.forString("HMDE");
+    static final Enum HME = Enum.forString("HME");
+    static final Enum HMST = Enum.forString("HMST");
+    static final Enum HMVE = Enum.forString("HMVE");
+    static final Enum HNLC = Enum.forString("HNLC");
+    static final Enum HNMR = Enum.forString("HNMR");
+    static final Enum HNSO = Enum.forString("HNSO");
+    static final Enum HOAN = Enum.forString("HOAN");
+    static final Enum HOBA = Enum.forString("HOBA");
+    static final Enum HOBB = Enum.forString("HOBB");
+    static final Enum HOBO = Enum.forString("HOBO");
+    static final Enum HODA = Enum.forString("HODA");
+    static final Enum HODG = Enum.forString("HODG");
+    static final Enum HOF = Enum.forString("HOF");
+    static final Enum HOIN = Enum.forString("HOIN");
+    static final Enum HOL = Enum.forString("HOL");
+    static final Enum HOLA = Enum.forString("HOLA");
+    static final Enum HOLD = Enum.forString("HOLD");
+    static final Enum HOLE = Enum.forString("HOLE");
+    static final Enum HOLH = Enum.forString("HOLH`");
+    static final Enum HOLI = Enum.forString("HOLI");
+    static final Enum HOLK = Enum.forString("HOLK");
+    static final Enum HOLL = Enum.forString("HOLL");
+    static final Enum HOLM = Enum.forString("HOLM");
+    static final Enum HOLN = Enum.forString("HOLN");
+    static final Enum HOLO = Enum.forString("HOLO");
+    static final Enum HOLP = Enum.forString("HOLP");
+    static final Enum HOLR = Enum.forString("HOLR");
+    static final Enum HOLS = Enum.forString("HOLS");
+    static final Enum HOLT = Enum.forString("HOLT");
+    static final Enum HOLU = Enum.forString("HOLU");
+    static final Enum HOLV = Enum.forString("HOLV");
+    static final Enum HOLW = Enum.forString("HOLW");
+    static final Enum HOLY = Enum.forString("HOLY");
+    static final Enum HOLZ = Enum.forString("HOLZ");
+    static final Enum HOMA = Enum.forString("HOMA");
+    static final Enum HOMD = Enum.forString("HOMD");
+    static final Enum HOME = Enum.forString("HOME");
+    static final Enum HOML = Enum.forString("HOML");
+    static final Enum HOMM = Enum.forString("HOMM");
+    static final Enum HOMS = Enum.forString("HOMS");
+    static final Enum HOND = Enum.forString("HOND");
+    static final Enum HONE = Enum.forString("HONE");
+    static final Enum HONG = Enum.forString("HONG");
+    static final Enum HONO = Enum.forString("HONO");
+    static final Enum HOOP = Enum.forString("HOOP");
+    static final Enum HOOS = Enum.forString("HOOS");
+    static final Enum HOP = Enum.forString("HOP");
+    static final Enum HOPK = Enum.forString("HOPK");
+    static final Enum HORC = Enum.forString("HORC");
+    static final Enum HORI = Enum.forString("HORI");
+    static final Enum HORN = Enum.forString("HORN");
+    static final Enum HORS = Enum.forString("HORS");
+    static final Enum HORT = Enum.forString("HORT");
+    static final Enum HORX = Enum.forString("HORX");
+    static final Enum HORZ = Enum.forString("HORZ");
+    static final Enum HOTC = Enum.forString("HOTC");
+    static final Enum HOUE = Enum.forString("HOUE");
+    static final Enum HOUF = Enum.forString("HOUF");
+    static final Enum HOUG = Enum.forString("HOUG");
+    static final Enum HOUH = Enum.forString("HOUH");
+    static final Enum HOWA = Enum.forString("HOWA");
+    static final Enum HOWC = Enum.forString("HOWC");
+    static final Enum HOWD = Enum.forString("HOWD");
+    static final Enum HOWE = Enum.forString("HOWE");
+    static final Enum HOWL = Enum.forString("HOWL");
+    static final Enum HOWR = Enum.forString("HOWR");
+    static final Enum HOWS = Enum.forString("HOWS");
+    static final Enum HRBN = Enum.forString("HRBN");
+    static final Enum HRG = Enum.forString("HRG");
+    static final Enum HRLL = Enum.forString("HRLL");
+    static final Enum HRRM = Enum.forString("HRRM");
+    static final Enum HRSE = Enum.forString("HRSE");
+    static final Enum HRTG = Enum.forString("HRTG");
+    static final Enum HRTI = Enum.forString("HRTI");
+    static final Enum HRTK = Enum.forString("HRTK");
+    static final Enum HRTL = Enum.forString("HRTL");
+    static final Enum HRTN = Enum.forString("HRTN");
+    static final Enum HRTO = Enum.forString("HRTO");
+    static final Enum HRTR = Enum.forString("HRTR");
+    static final Enum HRVY = Enum.forString("HRVY");
+    static final Enum HSKE = Enum.forString("HSKE");
+    static final Enum HSKY = Enum.forString("HSKY");
+    static final Enum HSMI = Enum.forString("HSMI");
+    static final Enum HSQV = Enum.forString("HSQV");
+    static final Enum HTCH = Enum.forString("HTCH");
+    static final Enum HUBE = Enum.forString("HUBE");
+    static final Enum HUDS = Enum.forString("HUDS");
+    static final Enum HUFF = Enum.forString("HUFF");
+    static final Enum HUFY = Enum.forString("HUFY");
+    static final Enum HUGH = Enum.forString("HUGH");
+    static final Enum HULL = Enum.forString("HULL");
+    static final Enum HUMB = Enum.forString("HUMB");
+    static final Enum HUME = Enum.forString("HUME");
+    static final Enum HUML = Enum.forString("HUML");
+    static final Enum HUMM = Enum.forString("HUMM");
+    static final Enum HUMS = Enum.forString("HUMS");
+    static final Enum HUNE = Enum.forString("HUNE");
+    static final Enum HUNG = Enum.forString("HUNG");
+    static final Enum HUNM = Enum.forString("HUNM");
+    static final Enum HUNT = Enum.forString("HUNT");
+    static final Enum HUPM = Enum.forString("HUPM");
+    static final Enum HURO = Enum.forString("HURO");
+    static final Enum HURS = Enum.forString("HURS");
+    static final Enum HURU = Enum.forString("HURU");
+    static final Enum HUSA = Enum.forString("HUSA");
+    static final Enum HUSF = Enum.forString("HUSF");
+    static final Enum HUSK = Enum.forString("HUSK");
+    static final Enum HUSQ = Enum.forString("HUSQ");
+    static final Enum HUSS = Enum.forString("HUSS");
+    static final Enum HUST = Enum.forString("HUST");
+    static final Enum HUTC = Enum.forString("HUTC");
+    static final Enum HUTR = Enum.forString("HUTR");
+    static final Enum HUWA = Enum.forString("HUWA");
+    static final Enum HWKT = Enum.forString("HWKT");
+    static final Enum HWMC = Enum.forString("HWMC");
+    static final Enum HWRO = Enum.forString("HWRO");
+    static final Enum HYCA = Enum.forString("HYCA");
+    static final Enum HYDE = Enum.forString("HYDE");
+    static final Enum HYDY = Enum.forString("HYDY");
+    static final Enum HYLD = Enum.forString("HYLD");
+    static final Enum HYLN = Enum.forString("HYLN");
+    static final Enum HYLT = Enum.forString("HYLT");
+    static final Enum HYOS = Enum.forString("HYOS");
+    static final Enum HYSH = Enum.forString("HYSH");
+    static final Enum HYST = Enum.forString("HYST");
+    static final Enum HYTK = Enum.forString("HYTK");
+    static final Enum HYTR = Enum.forString("HYTR");
+    static final Enum HYUN = Enum.forString("HYUN");
+    static final Enum IAME = Enum.forString("IAME");
+    static final Enum IBEN = Enum.forString("IBEN");
+    static final Enum ICL = Enum.forString("ICL");
+    static final Enum ICRP = Enum.forString("ICRP");
+    static final Enum IDEC = Enum.forString("IDEC");
+    static final Enum IDEL = Enum.forString("IDEL");
+    static final Enum IDLE = Enum.forString("IDLE");
+    static final Enum IHHI = Enum.forString("IHHI");
+    static final Enum IHTM = Enum.forString("IHTM");
+    static final Enum IJBD = Enum.forString("IJBD");
+    static final Enum IKA = Enum.forString("IKA");
+    static final Enum IMCO = Enum.forString("IMCO");
+    static final Enum IMPA = Enum.forString("IMPA");
+    static final Enum IMPB = Enum.forString("IMPB");
+    static final Enum IMPD = Enum.forString("IMPD");
+    static final Enum IMPE = Enum.forString("IMPE");
+    static final Enum IMPI = Enum.forString("IMPI");
+    static final Enum IND = Enum.forString("IND");
+    static final Enum INDA = Enum.forString("INDA");
+    static final Enum INDE = Enum.forString("INDE");
+    static final Enum INDI = Enum.forString("INDI");
+    static final Enum INDM = Enum.forString("INDM");
+    static final Enum INDN = Enum.forString("INDN");
+    static final Enum INDP = Enum.forString("INDP");
+    static final Enum INDU = Enum.forString("INDU");
+    static final Enum INFI = Enum.forString("INFI");
+    static final Enum INGE = Enum.forString("INGE");
+    static final Enum INGL = Enum.forString("INGL");
+    static final Enum INGR = Enum.forString("INGR");
+    static final Enum INGS = Enum.forString("INGS");
+    static final Enum INGT = Enum.forString("INGT");
+    static final Enum INLA = Enum.forString("INLA");
+    static final Enum INLI = Enum.forString("INLI");
+    static final Enum INMA = Enum.forString("INMA");
+    static final Enum INMC = Enum.forString("INMC");
+    static final Enum INME = Enum.forString("INME");
+    static final Enum INMN = Enum.forString("INMN");
+    static final Enum INNO = Enum.forString("INNO");
+    static final Enum INOR = Enum.forString("INOR");
+    static final Enum INRP = Enum.forString("INRP");
+    static final Enum INSL = Enum.forString("INSL");
+    static final Enum INTC = Enum.forString("INTC");
+    static final Enum INTE = Enum.forString("INTE");
+    static final Enum INTG = Enum.forString("INTG");
+    static final Enum INTI = Enum.forString("INTI");
+    static final Enum INTL = Enum.forString("INTL");
+    static final Enum INTM = Enum.forString("INTM");
+    static final Enum INTP = Enum.forString("INTP");
+    static final Enum INTR = Enum.forString("INTR");
+    static final Enum INTS = Enum.forString("INTS");
+    static final Enum INTT = Enum.forString("INTT");
+    static final Enum INVA = Enum.forString("INVA");
+    static final Enum INVO = Enum.forString("INVO");
+    static final Enum IOMO = Enum.forString("IOMO");
+    static final Enum IONI = Enum.forString("IONI");
+    static final Enum IOWA = Enum.forString("IOWA");
+    static final Enum IPSC = Enum.forString("IPSC");
+    static final Enum IRBK = Enum.forString("IRBK");
+    static final Enum IRD = Enum.forString("IRD");
+    static final Enum IRDG = Enum.forString("IRDG");
+    static final Enum ISEI = Enum.forString("ISEI");
+    static final Enum ISET = Enum.forString("ISET");
+    static final Enum ISLA = Enum.forString("ISLA");
+    static final Enum ISO = Enum.forString("ISO");
+    static final Enum ISU = Enum.forString("ISU");
+    static final Enum ITAF = Enum.forString("ITAF");
+    static final Enum ITAI = Enum.forString("ITAI");
+    static final Enum ITAL = Enum.forString("ITAL");
+    static final Enum ITAS = Enum.forString("ITAS");
+    static final Enum ITAT = Enum.forString("ITAT");
+    static final Enum ITAV = Enum.forString("ITAV");
+    static final Enum ITLR = Enum.forString("ITLR");
+    static final Enum ITOM = Enum.forString("ITOM");
+    static final Enum IVEC = Enum.forString("IVEC");
+    static final Enum JAC = Enum.forString("JAC");
+    static final Enum JACC = Enum.forString("JACC");
+    static final Enum JACK = Enum.forString("JACK");
+    static final Enum JACL = Enum.forString("JACL");
+    static final Enum JACO = Enum.forString("JACO");
+    static final Enum JACS = Enum.forString("JACS");
+    static final Enum JACT = Enum.forString("JACT");
+    static final Enum JAEG = Enum.forString("JAEG");
+    static final Enum JAGU = Enum.forString("JAGU");
+    static final Enum JAHN = Enum.forString("JAHN");
+    static final Enum JALL = Enum.forString("JALL");
+    static final Enum JAMA = Enum.forString("JAMA");
+    static final Enum JAMB = Enum.forString("JAMB");
+    static final Enum JAMC = Enum.forString("JAMC");
+    static final Enum JAMI = Enum.forString("JAMI");
+    static final Enum JAMM = Enum.forString("JAMM");
+    static final Enum JANT = Enum.forString("JANT");
+    static final Enum JARC = Enum.forString("JARC");
+    static final Enum JASO = Enum.forString("JASO");
+    static final Enum JAWA = Enum.forString("JAWA");
+    static final Enum JAY = Enum.forString("JAY");
+    static final Enum JAYD = Enum.forString("JAYD");
+    static final Enum JAYK = Enum.forString("JAYK");
+    static final Enum JAYS = Enum.forString("JAYS");
+    static final Enum JAYW = Enum.forString("JAYW");
+    static final Enum JB = Enum.forString("JB");
+    static final Enum JBEN = Enum.forString("JBEN");
+    static final Enum JCBE = Enum.forString("JCBE");
+    static final Enum JDER = Enum.forString("JDER");
+    static final Enum JDHS = Enum.forString("JDHS");
+    static final Enum JECR = Enum.forString("JECR");
+    static final Enum JEEP = Enum.forString("JEEP");
+    static final Enum JEHM = Enum.forString("JEHM");
+    static final Enum JENE = Enum.forString("JENE");
+    static final Enum JENN = Enum.forString("JENN");
+    static final Enum JENS = Enum.forString("JENS");
+    static final Enum JEP = Enum.forString("JEP");
+    static final Enum JERA = Enum.forString("JERA");
+    static final Enum JERR = Enum.forString("JERR");
+    static final Enum JERS = Enum.forString("JERS");
+    static final Enum JERW = Enum.forString("JERW");
+    static final Enum JETM = Enum.forString("JETM");
+    static final Enum JETS = Enum.forString("JETS");
+    static final Enum JEWE = Enum.forString("JEWE");
+    static final Enum JFW = Enum.forString("JFW");
+    static final Enum JHNS = Enum.forString("JHNS");
+    static final Enum JIAN = Enum.forString("JIAN");
+    static final Enum JIMA = Enum.forString("JIMA");
+    static final Enum JIMD = Enum.forString("JIMD");
+    static final Enum JIMG = Enum.forString("JIMG");
+    static final Enum JIMS = Enum.forString("JIMS");
+    static final Enum JIND = Enum.forString("JIND");
+    static final Enum JINS = Enum.forString("JINS");
+    static final Enum JJ = Enum.forString("JJ");
+    static final Enum JJJ = Enum.forString("JJJ");
+    static final Enum JJNE = Enum.forString("JJNE");
+    static final Enum JJT = Enum.forString("JJT");
+    static final Enum JJTM = Enum.forString("JJTM");
+    static final Enum JLGI = Enum.forString("JLGI");
+    static final Enum JLM = Enum.forString("JLM");
+    static final Enum JLTL = Enum.forString("JLTL");
+    static final Enum JMCY = Enum.forString("JMCY");
+    static final Enum JMGL = Enum.forString("JMGL");
+    static final Enum JMS = Enum.forString("JMS");
+    static final Enum JOBS = Enum.forString("JOBS");
+    static final Enum JOES = Enum.forString("JOES");
+    static final Enum JOEW = Enum.forString("JOEW");
+    static final Enum JOHN = Enum.forString("JOHN");
+    static final Enum JOHO = Enum.forString("JOHO");
+    static final Enum JOHS = Enum.forString("JOHS");
+    static final Enum JOLI = Enum.forString("JOLI");
+    static final Enum JOMA = Enum.forString("JOMA");
+    static final Enum JONS = Enum.forString("JONS");
+    static final Enum JOPL = Enum.forString("JOPL");
+    static final Enum JORG = Enum.forString("JORG");
+    static final Enum JOSH = Enum.forString("JOSH");
+    static final Enum JOSO = Enum.forString("JOSO");
+    static final Enum JOUR = Enum.forString("JOUR");
+    static final Enum JOWE = Enum.forString("JOWE");
+    static final Enum JOYC = Enum.forString("JOYC");
+    static final Enum JPTR = Enum.forString("JPTR");
+    static final Enum JRDN = Enum.forString("JRDN");
+    static final Enum JRMC = Enum.forString("JRMC");
+    static final Enum JROD = Enum.forString("JROD");
+    static final Enum JSMH = Enum.forString("JSMH");
+    static final Enum JSWP = Enum.forString("JSWP");
+    static final Enum JTIL = Enum.forString("JTIL");
+    static final Enum JUDE = Enum.forString("JUDE");
+    static final Enum JUIL = Enum.forString("JUIL");
+    static final Enum JUNR = Enum.forString("JUNR");
+    static final Enum JW = Enum.forString("JW");
+    static final Enum JWBC = Enum.forString("JWBC");
+    static final Enum JWSS = Enum.forString("JWSS");
+    static final Enum KAES = Enum.forString("KAES");
+    static final Enum KAIS = Enum.forString("KAIS");
+    static final Enum KAJU = Enum.forString("KAJU");
+    static final Enum KAKI = Enum.forString("KAKI");
+    static final Enum KAL = Enum.forString("KAL");
+    static final Enum KALL = Enum.forString("KALL");
+    static final Enum KALY = Enum.forString("KALY");
+    static final Enum KAM = Enum.forString("KAM");
+    static final Enum KAMA = Enum.forString("KAMA");
+    static final Enum KAMI = Enum.forString("KAMI");
+    static final Enum KAMP = Enum.forString("KAMP");
+    static final Enum KANE = Enum.forString("KANE");
+    static final Enum KANH = Enum.forString("KANH");
+    static final Enum KANN = Enum.forString("KANN");
+    static final Enum KANZ = Enum.forString("KANZ");
+    static final Enum KARA = Enum.forString("KARA");
+    static final Enum KARD = Enum.forString("KARD");
+    static final Enum KARI = Enum.forString("KARI");
+    static final Enum KARO = Enum.forString("KARO");
+    static final Enum KARR = Enum.forString("KARR");
+    static final Enum KARS = Enum.forString("KARS");
+    static final Enum KART = Enum.forString("KART");
+    static final Enum KASE = Enum.forString("KASE");
+    static final Enum KASS = Enum.forString("KASS");
+    static final Enum KAST = Enum.forString("KAST");
+    static final Enum KATL = Enum.forString("KATL");
+    static final Enum KATO = Enum.forString("KATO");
+    static final Enum KAUF = Enum.forString("KAUF");
+    static final Enum KAWK = Enum.forString("KAWK");
+    static final Enum KAYD = Enum.forString("KAYD");
+    static final Enum KAYF = Enum.forString("KAYF");
+    static final Enum KAYO = Enum.forString("KAYO");
+    static final Enum KAYW = Enum.forString("KAYW");
+    static final Enum KAZU = Enum.forString("KAZU");
+    static final Enum KBAR = Enum.forString("KBAR");
+    static final Enum KBHC = Enum.forString("KBHC");
+    static final Enum KCCF = Enum.forString("KCCF");
+    static final Enum KDMA = Enum.forString("KDMA");
+    static final Enum KEAR = Enum.forString("KEAR");
+    static final Enum KELE = Enum.forString("KELE");
+    static final Enum KELL = Enum.forString("KELL");
+    static final Enum KELO = Enum.forString("KELO");
+    static final Enum KELS = Enum.forString("KELS");
+    static final Enum KEMP = Enum.forString("KEMP");
+    static final Enum KEN = Enum.forString("KEN");
+    static final Enum KENA = Enum.forString("KENA");
+    static final Enum KENC = Enum.forString("KENC");
+    static final Enum KENM = Enum.forString("KENM");
+    static final Enum KENN = Enum.forString("KENN");
+    static final Enum KENO = Enum.forString("KENO");
+    static final Enum KENS = Enum.forString("KENS");
+    static final Enum KENT = Enum.forString("KENT");
+    static final Enum KENW = Enum.forString("KENW");
+    static final Enum KENY = Enum.forString("KENY");
+    static final Enum KEPT = Enum.forString("KEPT");
+    static final Enum KERR = Enum.forString("KERR");
+    static final Enum KESL = Enum.forString("KESL");
+    static final Enum KEYI = Enum.forString("KEYI");
+    static final Enum KEYO = Enum.forString("KEYO");
+    static final Enum KEYS = Enum.forString("KEYS");
+    static final Enum KGHY = Enum.forString("KGHY");
+    static final Enum KGMF = Enum.forString("KGMF");
+    static final Enum KIA = Enum.forString("KIA");
+    static final Enum KIBB = Enum.forString("KIBB");
+    static final Enum KIDR = Enum.forString("KIDR");
+    static final Enum KIEF = Enum.forString("KIEF");
+    static final Enum KILG = Enum.forString("KILG");
+    static final Enum KILL = Enum.forString("KILL");
+    static final Enum KIMI = Enum.forString("KIMI");
+    static final Enum KINA = Enum.forString("KINA");
+    static final Enum KINC = Enum.forString("KINC");
+    static final Enum KIND = Enum.forString("KIND");
+    static final Enum KINE = Enum.forString("KINE");
+    static final Enum KINF = Enum.forString("KINF");
+    static final Enum KINS = Enum.forString("KINS");
+    static final Enum KINZ = Enum.forString("KINZ");
+    static final Enum KIPC = Enum.forString("KIPC");
+    static final Enum KISM = Enum.forString("KISM");
+    static final Enum KISS = Enum.forString("KISS");
+    static final Enum KIT = Enum.forString("KIT");
+    static final Enum KITK = Enum.forString("KITK");
+    static final Enum KITM = Enum.forString("KITM");
+    static final Enum KLAE = Enum.forString("KLAE");
+    static final Enum KLAS = Enum.forString("KLAS");
+    static final Enum KLCL = Enum.forString("KLCL");
+    static final Enum KLEI = Enum.forString("KLEI");
+    static final Enum KLI = Enum.forString("KLI");
+    static final Enum KLIN = Enum.forString("KLIN");
+    static final Enum KLMK = Enum.forString("KLMK");
+    static final Enum KMAR = Enum.forString("KMAR");
+    static final Enum KMCU = Enum.forString("KMCU");
+    static final Enum KMGI = Enum.forString("KMGI");
+    static final Enum KMMC = Enum.forString("KMMC");
+    static final Enum KMNM = Enum.forString("KMNM");
+    static final Enum KMSR = Enum.forString("KMSR");
+    static final Enum KNBR = Enum.forString("KNBR");
+    static final Enum KNC = Enum.forString("KNC");
+    static final Enum KNG = Enum.forString("KNG");
+    static final Enum KNGH = Enum.forString("KNGH");
+    static final Enum KNGS = Enum.forString("KNGS");
+    static final Enum KNIG = Enum.forString("KNIG");
+    static final Enum KNLH = Enum.forString("KNLH");
+    static final Enum KNNW = Enum.forString("KNNW");
+    static final Enum KNOW = Enum.forString("KNOW");
+    static final Enum KNOX = Enum.forString("KNOX");
+    static final Enum KNTC = Enum.forString("KNTC");
+    static final Enum KNTI = Enum.forString("KNTI");
+    static final Enum KODI = Enum.forString("KODI");
+    static final Enum KOEH = Enum.forString("KOEH");
+    static final Enum KOEN = Enum.forString("KOEN");
+    static final Enum KOFF = Enum.forString("KOFF");
+    static final Enum KOHL = Enum.forString("KOHL");
+    static final Enum KOLB = Enum.forString("KOLB");
+    static final Enum KOMA = Enum.forString("KOMA");
+    static final Enum KOMC = Enum.forString("KOMC");
+    static final Enum KOME = Enum.forString("KOME");
+    static final Enum KOMF = Enum.forString("KOMF");
+    static final Enum KOMP = Enum.forString("KOMP");
+    static final Enum KOMR = Enum.forString("KOMR");
+    static final Enum KONK = Enum.forString("KONK");
+    static final Enum KONT = Enum.forString("KONT");
+    static final Enum KOOL = Enum.forString("KOOL");
+    static final Enum KORY = Enum.forString("KORY");
+    static final Enum KOSC = Enum.forString("KOSC");
+    static final Enum KOST = Enum.forString("KOST");
+    static final Enum KOTR = Enum.forString("KOTR");
+    static final Enum KOUN = Enum.forString("KOUN");
+    static final Enum KOVA = Enum.forString("KOVA");
+    static final Enum KOZY = Enum.forString("KOZY");
+    static final Enum KPRC = Enum.forString("KPRC");
+    static final Enum KRAE = Enum.forString("KRAE");
+    static final Enum KRAU = Enum.forString("KRAU");
+    static final Enum KRDL = Enum.forString("KRDL");
+    static final Enum KRGO = Enum.forString("KRGO");
+    static final Enum KRIS = Enum.forString("KRIS");
+    static final Enum KROM = Enum.forString("KROM");
+    static final Enum KROP = Enum.forString("KROP");
+    static final Enum KROS = Enum.forString("KROS");
+    static final Enum KROW = Enum.forString("KROW");
+    static final Enum KRST = Enum.forString("KRST");
+    static final Enum KSEA = Enum.forString("KSEA");
+    static final Enum KTM = Enum.forString("KTM");
+    static final Enum KUBO = Enum.forString("KUBO");
+    static final Enum KUHN = Enum.forString("KUHN");
+    static final Enum KURM = Enum.forString("KURM");
+    static final Enum KURT = Enum.forString("KURT");
+    static final Enum KUST = Enum.forString("KUST");
+    static final Enum KUTK = Enum.forString("KUTK");
+    static final Enum KUTZ = Enum.forString("KUTZ");
+    static final Enum KW = Enum.forString("KW");
+    static final Enum KWDT = Enum.forString("KWDT");
+    static final Enum KWKT = Enum.forString("KWKT");
+    static final Enum KWMH = Enum.forString("KWMH");
+    static final Enum KWNS = Enum.forString("KWNS");
+    static final Enum KYMC = Enum.forString("KYMC");
+    static final Enum KYRV = Enum.forString("KYRV");
+    static final Enum LABE = Enum.forString("LABE");
+    static final Enum LACH = Enum.forString("LACH");
+    static final Enum LACR = Enum.forString("LACR");
+    static final Enum LACY = Enum.forString("LACY");
+    static final Enum LADA = Enum.forString("LADA");
+    static final Enum LAFR = Enum.forString("LAFR");
+    static final Enum LAFY = Enum.forString("LAFY");
+    static final Enum LAGO = Enum.forString("LAGO");
+    static final Enum LAGU = Enum.forString("LAGU");
+    static final Enum LAKE = Enum.forString("LAKE");
+    static final Enum LAKL = Enum.forString("LAKL");
+    static final Enum LALL = Enum.forString("LALL");
+    static final Enum LAMB = Enum.forString("LAMB");
+    static final Enum LAMO = Enum.forString("LAMO");
+    static final Enum LAN = Enum.forString("LAN");
+    static final Enum LANA = Enum.forString("LANA");
+    static final Enum LANC = Enum.forString("LANC");
+    static final Enum LAND = Enum.forString("LAND");
+    static final Enum LANE = Enum.forString("LANE");
+    static final Enum LANG = Enum.forString("LANG");
+    static final Enum LANH = Enum.forString("LANH");
+    static final Enum LANL = Enum.forString("LANL");
+    static final Enum LANM = Enum.forString("LANM");
+    static final Enum LANP = Enum.forString("LANP");
+    static final Enum LANR = Enum.forString("LANR");
+    static final Enum LANS = Enum.forString("LANS");
+    static final Enum LANT = Enum.forString("LANT");
+    static final Enum LANU = Enum.forString("LANU");
+    static final Enum LAOT = Enum.forString("LAOT");
+    static final Enum LARA = Enum.forString("LARA");
+    static final Enum LARK = Enum.forString("LARK");
+    static final Enum LARN = Enum.forString("LARN");
+    static final Enum LARO = Enum.forString("LARO");
+    static final Enum LARS = Enum.forString("LARS");
+    static final Enum LARV = Enum.forString("LARV");
+    static final Enum LASA = Enum.forString("LASA");
+    static final Enum LASE = Enum.forString("LASE");
+    static final Enum LASH = Enum.forString("LASH");
+    static final Enum LASL = Enum.forString("LASL");
+    static final Enum LAVE = Enum.forString("LAVE");
+    static final Enum LAWC = Enum.forString("LAWC");
+    static final Enum LAWN = Enum.forString("LAWN");
+    static final Enum LAWR = Enum.forString("LAWR");
+    static final Enum LAYO = Enum.forString("LAYO");
+    static final Enum LAYT = Enum.forString("LAYT");
+    static final Enum LAZE = Enum.forString("LAZE");
+    static final Enum LAZJ = Enum.forString("LAZJ");
+    static final Enum LBAU = Enum.forString("LBAU");
+    static final Enum LBHR = Enum.forString("LBHR");
+    static final Enum LBOS = Enum.forString("LBOS");
+    static final Enum LBOY = Enum.forString("LBOY");
+    static final Enum LBT = Enum.forString("LBT");
+    static final Enum LBTY = Enum.forString("LBTY");
+    static final Enum LCHG = Enum.forString("LCHG");
+    static final Enum LCRT = Enum.forString("LCRT");
+    static final Enum LD = Enum.forString("LD");
+    static final Enum LDAZ = Enum.forString("LDAZ");
+    static final Enum LDMS = Enum.forString("LDMS");
+    static final Enum LDMX = Enum.forString("LDMX");
+    static final Enum LDTC = Enum.forString("LDTC");
+    static final Enum LDTL = Enum.forString("LDTL");
+    static final Enum LEAD = Enum.forString("LEAD");
+    static final Enum LEAF = Enum.forString("LEAF");
+    static final Enum LEAR = Enum.forString("LEAR");
+    static final Enum LECH = Enum.forString("LECH");
+    static final Enum LECT = Enum.forString("LECT");
+    static final Enum LEDW = Enum.forString("LEDW");
+    static final Enum LEE = Enum.forString("LEE");
+    static final Enum LEEC = Enum.forString("LEEC");
+    static final Enum LEEN = Enum.forString("LEEN");
+    static final Enum LEER = Enum.forString("LEER");
+    static final Enum LEES = Enum.forString("LEES");
+    static final Enum LEIR = Enum.forString("LEIR");
+    static final Enum LEIS = Enum.forString("LEIS");
+    static final Enum LEIT = Enum.forString("LEIT");
+    static final Enum LEIU = Enum.forString("LEIU");
+    static final Enum LEKT = Enum.forString("LEKT");
+    static final Enum LELA = Enum.forString("LELA");
+    static final Enum LELY = Enum.forString("LELY");
+    static final Enum LEM = Enum.forString("LEM");
+    static final Enum LEMC = Enum.forString("LEMC");
+    static final Enum LENT = Enum.forString("LENT");
+    static final Enum LEON = Enum.forString("LEON");
+    static final Enum LERY = Enum.forString("LERY");
+    static final Enum LESC = Enum.forString("LESC");
+    static final Enum LESR = Enum.forString("LESR");
+    static final Enum LETO = Enum.forString("LETO");
+    static final Enum LEVC = Enum.forString("LEVC");
+    static final Enum LEVI = Enum.forString("LEVI");
+    static final Enum LEWA = Enum.forString("LEWA");
+    static final Enum LEWI = Enum.forString("LEWI");
+    static final Enum LEXS = Enum.forString("LEXS");
+    static final Enum LEYL = Enum.forString("LEYL");
+    static final Enum LFET = Enum.forString("LFET");
+    static final Enum LFTL = Enum.forString("LFTL");
+    static final Enum LFZA = Enum.forString("LFZA");
+    static final Enum LG = Enum.forString("LG");
+    static final Enum LGCH = Enum.forString("LGCH");
+    static final Enum LGND = Enum.forString("LGND");
+    static final Enum LHRN = Enum.forString("LHRN");
+    static final Enum LIBA = Enum.forString("LIBA");
+    static final Enum LIBE = Enum.forString("LIBE");
+    static final Enum LIBH = Enum.forString("LIBH");
+    static final Enum LIBY = Enum.forString("LIBY");
+    static final Enum LICH = Enum.forString("LICH");
+    static final Enum LICO = Enum.forString("LICO");
+    static final Enum LIEB = Enum.forString("LIEB");
+    static final Enum LIFM = Enum.forString("LIFM");
+    static final Enum LIGC = Enum.forString("LIGC");
+    static final Enum LIGH = Enum.forString("LIGH");
+    static final Enum LIGP = Enum.forString("LIGP");
+    static final Enum LIGT = Enum.forString("LIGT");
+    static final Enum LILA = Enum.forString("LILA");
+    static final Enum LILC = Enum.forString("LILC");
+    static final Enum LILL = Enum.forString("LILL");
+    static final Enum LILN = Enum.forString("LILN");
+    static final Enum LILZ = Enum.forString("LILZ");
+    static final Enum LINC = Enum.forString("LINC");
+    static final Enum LIND = Enum.forString("LIND");
+    static final Enum LINF = Enum.forString("LINF");
+    static final Enum LINH = Enum.forString("LINH");
+    static final Enum LINM = Enum.forString("LINM");
+    static final Enum LINP = Enum.forString("LINP");
+    static final Enum LINT = Enum.forString("LINT");
+    static final Enum LINV = Enum.forString("LINV");
+    static final Enum LINW = Enum.forString("LINW");
+    static final Enum LIOL = Enum.forString("LIOL");
+    static final Enum LION = Enum.forString("LION");
+    static final Enum LIPR = Enum.forString("LIPR");
+    static final Enum LIQU = Enum.forString("LIQU");
+    static final Enum LISL = Enum.forString("LISL");
+    static final Enum LITC = Enum.forString("LITC");
+    static final Enum LITD = Enum.forString("LITD");
+    static final Enum LITK = Enum.forString("LITK");
+    static final Enum LITP = Enum.forString("LITP");
+    static final Enum LITS = Enum.forString("LITS");
+    static final Enum LITT = Enum.forString("LITT");
+    static final Enum LKWD = Enum.forString("LKWD");
+    static final Enum LLOD = Enum.forString("LLOD");
+    static final Enum LLOY = Enum.forString("LLOY");
+    static final Enum LLTR = Enum.forString("LLTR");
+    static final Enum LMC = Enum.forString("LMC");
+    static final Enum LMLC = Enum.forString("LMLC");
+    static final Enum LMMC = Enum.forString("LMMC");
+    static final Enum LNCE = Enum.forString("LNCE");
+    static final Enum LNCI = Enum.forString("LNCI");
+    static final Enum LNCO = Enum.forString("LNCO");
+    static final Enum LNDN = Enum.forString("LNDN");
+    static final Enum LNDR = Enum.forString("LNDR");
+    static final Enum LNEW = Enum.forString("LNEW");
+    static final Enum LNGH = Enum.forString("LNGH");
+    static final Enum LNPD = Enum.forString("LNPD");
+    static final Enum LNRD = Enum.forString("LNRD");
+    static final Enum LNST = Enum.forString("LNST");
+    static final Enum LNWF = Enum.forString("LNWF");
+    static final Enum LOAD = Enum.forString("LOAD");
+    static final Enum LOAK = Enum.forString("LOAK");
+    static final Enum LOCK = Enum.forString("LOCK");
+    static final Enum LOCO = Enum.forString("LOCO");
+    static final Enum LODA = Enum.forString("LODA");
+    static final Enum LODC = Enum.forString("LODC");
+    static final Enum LODE = Enum.forString("LODE");
+    static final Enum LODZ = Enum.forString("LODZ");
+    static final Enum LOFT = Enum.forString("LOFT");
+    static final Enum LOGN = Enum.forString("LOGN");
+    static final Enum LOLA = Enum.forString("LOLA");
+    static final Enum LOM = Enum.forString("LOM");
+    static final Enum LONA = Enum.forString("LONA");
+    static final Enum LONB = Enum.forString("LONB");
+    static final Enum LOND = Enum.forString("LOND");
+    static final Enum LONE = Enum.forString("LONE");
+    static final Enum LONF = Enum.forString("LONF");
+    static final Enum LONG = Enum.forString("LONG");
+    static final Enum LONH = Enum.forString("LONH");
+    static final Enum LONL = Enum.forString("LONL");
+    static final Enum LONN = Enum.forString("LONN");
+    static final Enum LONR = Enum.forString("LONR");
+    static final Enum LONT = Enum.forString("LONT");
+    static final Enum LOOD = Enum.forString("LOOD");
+    static final Enum LOPR = Enum.forString("LOPR");
+    static final Enum LORA = Enum.forString("LORA");
+    static final Enum LORK = Enum.forString("LORK");
+    static final Enum LOTU = Enum.forString("LOTU");
+    static final Enum LOVB = Enum.forString("LOVB");
+    static final Enum LOVE = Enum.forString("LOVE");
+    static final Enum LOWB = Enum.forString("LOWB");
+    static final Enum LOWE = Enum.forString("LOWE");
+    static final Enum LOWP = Enum.forString("LOWP");
+    static final Enum LRNG = Enum.forString("LRNG");
+    static final Enum LSKP = Enum.forString("LSKP");
+    static final Enum LSLN = Enum.forString("LSLN");
+    static final Enum LSUR = Enum.forString("LSUR");
+    static final Enum LTCH = Enum.forString("LTCH");
+    static final Enum LUBB = Enum.forString("LUBB");
+    static final Enum LUED = Enum.forString("LUED");
+    static final Enum LUFK = Enum.forString("LUFK");
+    static final Enum LUGR = Enum.forString("LUGR");
+    static final Enum LUKY = Enum.forString("LUKY");
+    static final Enum LULL = Enum.forString("LULL");
+    static final Enum LUND = Enum.forString("LUND");
+    static final Enum LUNG = Enum.forString("LUNG");
+    static final Enum LUVI = Enum.forString("LUVI");
+    static final Enum LUXO = Enum.forString("LUXO");
+    static final Enum LUXU = Enum.forString("LUXU");
+    static final Enum LWLF = Enum.forString("LWLF");
+    static final Enum LYMA = Enum.forString("LYMA");
+    static final Enum LYNC = Enum.forString("LYNC");
+    static final Enum LYNH = Enum.forString("LYNH");
+    static final Enum LYNN = Enum.forString("LYNN");
+    static final Enum LYNR = Enum.forString("LYNR");
+    static final Enum MACA = Enum.forString("MACA");
+    static final Enum MACC = Enum.forString("MACC");
+    static final Enum MACD = Enum.forString("MACD");
+    static final Enum MACG = Enum.forString("MACG");
+    static final Enum MACK = Enum.forString("MACK");
+    static final Enum MACL = Enum.forString("MACL");
+    static final Enum MACO = Enum.forString("MACO");
+    static final Enum MACR = Enum.forString("MACR");
+    static final Enum MADD = Enum.forString("MADD");
+    static final Enum MADM = Enum.forString("MADM");
+    static final Enum MADR = Enum.forString("MADR");
+    static final Enum MAEN = Enum.forString("MAEN");
+    static final Enum MAGA = Enum.forString("MAGA");
+    static final Enum MAGC = Enum.forString("MAGC");
+    static final Enum MAGI = Enum.forString("MAGI");
+    static final Enum MAGL = Enum.forString("MAGL");
+    static final Enum MAGN = Enum.forString("MAGN");
+    static final Enum MAGO = Enum.forString("MAGO");
+    static final Enum MAGT = Enum.forString("MAGT");
+    static final Enum MAHA = Enum.forString("MAHA");
+    static final Enum MAHI = Enum.forString("MAHI");
+    static final Enum MAHO = Enum.forString("MAHO");
+    static final Enum MAI = Enum.forString("MAI");
+    static final Enum MAIC = Enum.forString("MAIC");
+    static final Enum MAIN = Enum.forString("MAIN");
+    static final Enum MAIR = Enum.forString("MAIR");
+    static final Enum MAJE = Enum.forString("MAJE");
+    static final Enum MAJO = Enum.forString("MAJO");
+    static final Enum MAJR = Enum.forString("MAJR");
+    static final Enum MAKV = Enum.forString("MAKV");
+    static final Enum MAL = Enum.forString("MAL");
+    static final Enum MALA = Enum.forString("MALA");
+    static final Enum MALE = Enum.forString("MALE");
+    static final Enum MALH = Enum.forString("MALH");
+    static final Enum MALI = Enum.forString("MALI");
+    static final Enum MALL = Enum.forString("MALL");
+    static final Enum MALN = Enum.forString("MALN");
+    static final Enum MALO = Enum.forString("MALO");
+    static final Enum MALR = Enum.forString("MALR");
+    static final Enum MALS = Enum.forString("MALS");
+    static final Enum MALY = Enum.forString("MALY");
+    static final Enum MANA = Enum.forString("MANA");
+    static final Enum MANC = Enum.forString("MANC");
+    static final Enum MANE = Enum.forString("MANE");
+    static final Enum MANG = Enum.forString("MANG");
+    static final Enum MANI = Enum.forString("MANI");
+    static final Enum MANK = Enum.forString("MANK");
+    static final Enum MANM = Enum.forString("MANM");
+    static final Enum MANN = Enum.forString("MANN");
+    static final Enum MANO = Enum.forString("MANO");
+    static final Enum MANT = Enum.forString("MANT");
+    static final Enum MAPL = Enum.forString("MAPL");
+    static final Enum MAPO = Enum.forString("MAPO");
+    static final Enum MAQI = Enum.forString("MAQI");
+    static final Enum MARA = Enum.forString("MARA");
+    static final Enum MARB = Enum.forString("MARB");
+    static final Enum MARC = Enum.forString("MARC");
+    static final Enum MARF = Enum.forString("MARF");
+    static final Enum MARG = Enum.forString("MARG");
+    static final Enum MARH = Enum.forString("MARH");
+    static final Enum MARI = Enum.forString("MARI");
+    static final Enum MARK = Enum.forString("MARK");
+    static final Enum MARL = Enum.forString("MARL");
+    static final Enum MARM = Enum.forString("MARM");
+    static final Enum MARN = Enum.forString("MARN");
+    static final Enum MARO = Enum.forString("MARO");
+    static final Enum MARP = Enum.forString("MARP");
+    static final Enum MARQ = Enum.forString("MARQ");
+    static final Enum MARR = Enum.forString("MARR");
+    static final Enum MARS = Enum.forString("MARS");
+    static final Enum MART = Enum.forString("MART");
+    static final Enum MARU = Enum.forString("MARU");
+    static final Enum MARV = Enum.forString("MARV");
+    static final Enum MARW = Enum.forString("MARW");
+    static final Enum MASC = Enum.forString("MASC");
+    static final Enum MASE = Enum.forString("MASE");
+    static final Enum MASG = Enum.forString("MASG");
+    static final Enum MASL = Enum.forString("MASL");
+    static final Enum MASN = Enum.forString("MASN");
+    static final Enum MASR = Enum.forString("MASR");
+    static final Enum MASS = Enum.forString("MASS");
+    static final Enum MAST = Enum.forString("MAST");
+    static final Enum MASV = Enum.forString("MASV");
+    static final Enum MASY = Enum.forString("MASY");
+    static final Enum MATA = Enum.forString("MATA");
+    static final Enum MATE = Enum.forString("MATE");
+    static final Enum MATL = Enum.forString("MATL");
+    static final Enum MATR = Enum.forString("MATR");
+    static final Enum MAUL = Enum.forString("MAUL");
+    static final Enum MAUM = Enum.forString("MAUM");
+    static final Enum MAUR = Enum.forString("MAUR");
+    static final Enum MAV = Enum.forString("MAV");
+    static final Enum MAVE = Enum.forString("MAVE");
+    static final Enum MAVI = Enum.forString("MAVI");
+    static final Enum MAVL = Enum.forString("MAVL");
+    static final Enum MAVN = Enum.forString("MAVN");
+    static final Enum MAXC = Enum.forString("MAXC");
+    static final Enum MAXE = Enum.forString("MAXE");
+    static final Enum MAXI = Enum.forString("MAXI");
+    static final Enum MAXL = Enum.forString("MAXL");
+    static final Enum MAXO = Enum.forString("MAXO");
+    static final Enum MAYA = Enum.forString("MAYA");
+    static final Enum MAYB = Enum.forString("MAYB");
+    static final Enum MAYC = Enum.forString("MAYC");
+    static final Enum MAYF = Enum.forString("MAYF");
+    static final Enum MAYR = Enum.forString("MAYR");
+    static final Enum MAYS = Enum.forString("MAYS");
+    static final Enum MAZD = Enum.forString("MAZD");
+    static final Enum MBCC = Enum.forString("MBCC");
+    static final Enum MBCO = Enum.forString("MBCO");
+    static final Enum MBCP = Enum.forString("MBCP");
+    static final Enum MBEE = Enum.forString("MBEE");
+    static final Enum MBIE = Enum.forString("MBIE");
+    static final Enum MBIL = Enum.forString("MBIL");
+    static final Enum MBM = Enum.forString("MBM");
+    static final Enum MBTR = Enum.forString("MBTR");
+    static final Enum MBWI = Enum.forString("MBWI");
+    static final Enum MCAF = Enum.forString("MCAF");
+    static final Enum MCBM = Enum.forString("MCBM");
+    static final Enum MCCA = Enum.forString("MCCA");
+    static final Enum MCCB = Enum.forString("MCCB");
+    static final Enum MCCK = Enum.forString("MCCK");
+    static final Enum MCCL = Enum.forString("MCCL");
+    static final Enum MCCM = Enum.forString("MCCM");
+    static final Enum MCCO = Enum.forString("MCCO");
+    static final Enum MCCR = Enum.forString("MCCR");
+    static final Enum MCCU = Enum.forString("MCCU");
+    static final Enum MCCY = Enum.forString("MCCY");
+    static final Enum MCFA = Enum.forString("MCFA");
+    static final Enum MCIN = Enum.forString("MCIN");
+    static final Enum MCKA = Enum.forString("MCKA");
+    static final Enum MCKT = Enum.forString("MCKT");
+    static final Enum MCKY = Enum.forString("MCKY");
+    static final Enum MCNA = Enum.forString("MCNA");
+    static final Enum MCNM = Enum.forString("MCNM");
+    static final Enum MCOL = Enum.forString("MCOL");
+    static final Enum MCOX = Enum.forString("MCOX");
+    static final Enum MCOY = Enum.forString("MCOY");
+    static final Enum MCQU = Enum.forString("MCQU");
+    static final Enum MCQV = Enum.forString("MCQV");
+    static final Enum MCRD = Enum.forString("MCRD");
+    static final Enum MCRR = Enum.forString("MCRR");
+    static final Enum MDAM = Enum.forString("MDAM");
+    static final Enum MDLR = Enum.forString("MDLR");
+    static final Enum MDNA = Enum.forString("MDNA");
+    static final Enum MDS = Enum.forString("MDS");
+    static final Enum MDST = Enum.forString("MDST");
+    static final Enum MDTR = Enum.forString("MDTR");
+    static final Enum MEAD = Enum.forString("MEAD");
+    static final Enum MEAN = Enum.forString("MEAN");
+    static final Enum MEBT = Enum.forString("MEBT");
+    static final Enum MECH = Enum.forString("MECH");
+    static final Enum MEDA = Enum.forString("MEDA");
+    static final Enum MEDF = Enum.forString("MEDF");
+    static final Enum MEDI = Enum.forString("MEDI");
+    static final Enum MEIT = Enum.forString("MEIT");
+    static final Enum MELA = Enum.forString("MELA");
+    static final Enum MELG = Enum.forString("MELG");
+    static final Enum MELM = Enum.forString("MELM");
+    static final Enum MELO = Enum.forString("MELO");
+    static final Enum MELR = Enum.forString("MELR");
+    static final Enum MENS = Enum.forString("MENS");
+    static final Enum MERB = Enum.forString("MERB");
+    static final Enum MERC = Enum.forString("MERC");
+    static final Enum MERH = Enum.forString("MERH");
+    static final Enum MERI = Enum.forString("MERI");
+    static final Enum MERK = Enum.forString("MERK");
+    static final Enum MERM = Enum.forString("MERM");
+    static final Enum MERR = Enum.forString("MERR");
+    static final Enum MERT = Enum.forString("MERT");
+    static final Enum MERW = Enum.forString("MERW");
+    static final Enum MERY = Enum.forString("MERY");
+    static final Enum MERZ = Enum.forString("MERZ");
+    static final Enum MESA = Enum.forString("MESA");
+    static final Enum MESS = Enum.forString("MESS");
+    static final Enum META = Enum.forString("META");
+    static final Enum METE = Enum.forString("METE");
+    static final Enum METL = Enum.forString("METL");
+    static final Enum METO = Enum.forString("METO");
+    static final Enum METR = Enum.forString("METR");
+    static final Enum METV = Enum.forString("METV");
+    static final Enum METZ = Enum.forString("METZ");
+    static final Enum MEYE = Enum.forString("MEYE");
+    static final Enum MFAB = Enum.forString("MFAB");
+    static final Enum MG = Enum.forString("MG");
+    static final Enum MGM = Enum.forString("MGM");
+    static final Enum MGNM = Enum.forString("MGNM");
+    static final Enum MGNO = Enum.forString("MGNO");
+    static final Enum MGOS = Enum.forString("MGOS");
+    static final Enum MGS = Enum.forString("MGS");
+    static final Enum MHEB = Enum.forString("MHEB");
+    static final Enum MHMC = Enum.forString("MHMC");
+    static final Enum MICA = Enum.forString("MICA");
+    static final Enum MICC = Enum.forString("MICC");
+    static final Enum MICG = Enum.forString("MICG");
+    static final Enum MIDA = Enum.forString("MIDA");
+    static final Enum MIDC = Enum.forString("MIDC");
+    static final Enum MIDD = Enum.forString("MIDD");
+    static final Enum MIDE = Enum.forString("MIDE");
+    static final Enum MIDI = Enum.forString("MIDI");
+    static final Enum MIDL = Enum.forString("MIDL");
+    static final Enum MIDM = Enum.forString("MIDM");
+    static final Enum MIDQ = Enum.forString("MIDQ");
+    static final Enum MIDS = Enum.forString("MIDS");
+    static final Enum MIDT = Enum.forString("MIDT");
+    static final Enum MIDW = Enum.forString("MIDW");
+    static final Enum MIFU = Enum.forString("MIFU");
+    static final Enum MIKA = Enum.forString("MIKA");
+    static final Enum MIKR = Enum.forString("MIKR");
+    static final Enum MIL = Enum.forString("MIL");
+    static final Enum MILA = Enum.forString("MILA");
+    static final Enum MILC = Enum.forString("MILC");
+    static final Enum MILE = Enum.forString("MILE");
+    static final Enum MILL = Enum.forString("MILL");
+    static final Enum MILR = Enum.forString("MILR");
+    static final Enum MILT = Enum.forString("MILT");
+    static final Enum MILW = Enum.forString("MILW");
+    static final Enum MILY = Enum.forString("MILY");
+    static final Enum MIMO = Enum.forString("MIMO");
+    static final Enum MIND = Enum.forString("MIND");
+    static final Enum MINI = Enum.forString("MINI");
+    static final Enum MINN = Enum.forString("MINN");
+    static final Enum MIRA = Enum.forString("MIRA");
+    static final Enum MIST = Enum.forString("MIST");
+    static final Enum MIT = Enum.forString("MIT");
+    static final Enum MITC = Enum.forString("MITC");
+    static final Enum MITS = Enum.forString("MITS");
+    static final Enum MITT = Enum.forString("MITT");
+    static final Enum MJCK = Enum.forString("MJCK");
+    static final Enum MJME = Enum.forString("MJME");
+    static final Enum MJMT = Enum.forString("MJMT");
+    static final Enum MKMH = Enum.forString("MKMH");
+    static final Enum MLBL = Enum.forString("MLBL");
+    static final Enum MLLM = Enum.forString("MLLM");
+    static final Enum MLLR = Enum.forString("MLLR");
+    static final Enum MLRO = Enum.forString("MLRO");
+    static final Enum MLTI = Enum.forString("MLTI");
+    static final Enum MLTK = Enum.forString("MLTK");
+    static final Enum MLXC = Enum.forString("MLXC");
+    static final Enum MMCL = Enum.forString("MMCL");
+    static final Enum MMMC = Enum.forString("MMMC");
+    static final Enum MNAC = Enum.forString("MNAC");
+    static final Enum MNAR = Enum.forString("MNAR");
+    static final Enum MNDI = Enum.forString("MNDI");
+    static final Enum MNLN = Enum.forString("MNLN");
+    static final Enum MNNI = Enum.forString("MNNI");
+    static final Enum MNRC = Enum.forString("MNRC");
+    static final Enum MNRK = Enum.forString("MNRK");
+    static final Enum MNRO = Enum.forString("MNRO");
+    static final Enum MNSN = Enum.forString("MNSN");
+    static final Enum MNTA = Enum.forString("MNTA");
+    static final Enum MNTE = Enum.forString("MNTE");
+    static final Enum MNTG = Enum.forString("MNTG");
+    static final Enum MOAL = Enum.forString("MOAL");
+    static final Enum MOBB = Enum.forString("MOBB");
+    static final Enum MOBC = Enum.forString("MOBC");
+    static final Enum MOBE = Enum.forString("MOBE");
+    static final Enum MOBF = Enum.forString("MOBF");
+    static final Enum MOBG = Enum.forString("MOBG");
+    static final Enum MOBH = Enum.forString("MOBH");
+    static final Enum MOBI = Enum.forString("MOBI");
+    static final Enum MOBJ = Enum.forString("MOBJ");
+    static final Enum MOBK = Enum.forString("MOBK");
+    static final Enum MOBL = Enum.forString("MOBL");
+    static final Enum MOBN = Enum.forString("MOBN");
+    static final Enum MOBO = Enum.forString("MOBO");
+    static final Enum MOBP = Enum.forString("MOBP");
+    static final Enum MOBR = Enum.forString("MOBR");
+    static final Enum MOBS = Enum.forString("MOBS");
+    static final Enum MOBT = Enum.forString("MOBT");
+    static final Enum MOBU = Enum.forString("MOBU");
+    static final Enum MOBV = Enum.forString("MOBV");
+    static final Enum MOBW = Enum.forString("MOBW");
+    static final Enum MOBX = Enum.forString("MOBX");
+    static final Enum MOCA = Enum.forString("MOCA");
+    static final Enum MOCC = Enum.forString("MOCC");
+    static final Enum MOCR = Enum.forString("MOCR");
+    static final Enum MOCY = Enum.forString("MOCY");
+    static final Enum MODE = Enum.forString("MODE");
+    static final Enum MODH = Enum.forString("MODH");
+    static final Enum MODI = Enum.forString("MODI");
+    static final Enum MODL = Enum.forString("MODL");
+    static final Enum MODN = Enum.forString("MODN");
+    static final Enum MODR = Enum.forString("MODR");
+    static final Enum MODU = Enum.forString("MODU");
+    static final Enum MOFF = Enum.forString("MOFF");
+    static final Enum MOGA = Enum.forString("MOGA");
+    static final Enum MOGU = Enum.forString("MOGU");
+    static final Enum MOHA = Enum.forString("MOHA");
+    static final Enum MOHO = Enum.forString("MOHO");
+    static final Enum MOJA = Enum.forString("MOJA");
+    static final Enum MOLL = Enum.forString("MOLL");
+    static final Enum MOLY = Enum.forString("MOLY");
+    static final Enum MOMO = Enum.forString("MOMO");
+    static final Enum MONA = Enum.forString("MONA");
+    static final Enum MONB = Enum.forString("MONB");
+    static final Enum MONC = Enum.forString("MONC");
+    static final Enum MOND = Enum.forString("MOND");
+    static final Enum MONG = Enum.forString("MONG");
+    static final Enum MONH = Enum.forString("MONH");
+    static final Enum MONI = Enum.forString("MONI");
+    static final Enum MONN = Enum.forString("MONN");
+    static final Enum MONO = Enum.forString("MONO");
+    static final Enum MONR = Enum.forString("MONR");
+    static final Enum MONS = Enum.forString("MONS");
+    static final Enum MONT = Enum.forString("MONT");
+    static final Enum MONU = Enum.forString("MONU");
+    static final Enum MONV = Enum.forString("MONV");
+    static final Enum MONW = Enum.forString("MONW");
+    static final Enum MOOD = Enum.forString("MOOD");
+    static final Enum MOOR = Enum.forString("MOOR");
+    static final Enum MORD = Enum.forString("MORD");
+    static final Enum MORE = Enum.forString("MORE");
+    static final Enum MORG = Enum.forString("MORG");
+    static final Enum MORI = Enum.forString("MORI");
+    static final Enum MORM = Enum.forString("MORM");
+    static final Enum MORN = Enum.forString("MORN");
+    static final Enum MORR = Enum.forString("MORR");
+    static final Enum MORS = Enum.forString("MORS");
+    static final Enum MORT = Enum.forString("MORT");
+    static final Enum MORU = Enum.forString("MORU");
+    static final Enum MORW = Enum.forString("MORW");
+    static final Enum MOSE = Enum.forString("MOSE");
+    static final Enum MOSK = Enum.forString("MOSK");
+    static final Enum MOSW = Enum.forString("MOSW");
+    static final Enum MOTA = Enum.forString("MOTA");
+    static final Enum MOTB = Enum.forString("MOTB");
+    static final Enum MOTE = Enum.forString("MOTE");
+    static final Enum MOTM = Enum.forString("MOTM");
+    static final Enum MOTN = Enum.forString("MOTN");
+    static final Enum MOTO = Enum.forString("MOTO");
+    static final Enum MOTR = Enum.forString("MOTR");
+    static final Enum MOTS = Enum.forString("MOTS");
+    static final Enum MOUA = Enum.forString("MOUA");
+    static final Enum MOUE = Enum.forString("MOUE");
+    static final Enum MOUM = Enum.forString("MOUM");
+    static final Enum MOUN = Enum.forString("MOUN");
+    static final Enum MOUT = Enum.forString("MOUT");
+    static final Enum MOWA = Enum.forString("MOWA");
+    static final Enum MOWE = Enum.forString("MOWE");
+    static final Enum MPC = Enum.forString("MPC");
+    static final Enum MRAU = Enum.forString("MRAU");
+    static final Enum MRCO = Enum.forString("MRCO");
+    static final Enum MRCU = Enum.forString("MRCU");
+    static final Enum MRED = Enum.forString("MRED");
+    static final Enum MRIN = Enum.forString("MRIN");
+    static final Enum MRIO = Enum.forString("MRIO");
+    static final Enum MRNE = Enum.forString("MRNE");
+    static final Enum MRQM = Enum.forString("MRQM");
+    static final Enum MRRA = Enum.forString("MRRA");
+    static final Enum MRS = Enum.forString("MRS");
+    static final Enum MRTE = Enum.forString("MRTE");
+    static final Enum MRTI = Enum.forString("MRTI");
+    static final Enum MRTN = Enum.forString("MRTN");
+    static final Enum MRTZ = Enum.forString("MRTZ");
+    static final Enum MSFI = Enum.forString("MSFI");
+    static final Enum MSI = Enum.forString("MSI");
+    static final Enum MSTG = Enum.forString("MSTG");
+    static final Enum MSTW = Enum.forString("MSTW");
+    static final Enum MT = Enum.forString("MT");
+    static final Enum MT_AEAG = Enum.forString("MT-AEAG");
+    static final Enum MT_AGYL = Enum.forString("MT-AGYL");
+    static final Enum MT_AIH = Enum.forString("MT-AIH");
+    static final Enum MT_AJS = Enum.forString("MT-AJS");
+    static final Enum MT_AJW = Enum.forString("MT-AJW");
+    static final Enum MT_ALED = Enum.forString("MT-ALED");
+    static final Enum MT_ALEX = Enum.forString("MT-ALEX");
+    static final Enum MT_ALLL = Enum.forString("MT-ALLL");
+    static final Enum MT_ALOU = Enum.forString("MT-ALOU");
+    static final Enum MT_ALPH = Enum.forString("MT-ALPH");
+    static final Enum MT_ALSP = Enum.forString("MT-ALSP");
+    static final Enum MT_AMBA = Enum.forString("MT-AMBA");
+    static final Enum MT_AMDB = Enum.forString("MT-AMDB");
+    static final Enum MT_AMEN = Enum.forString("MT-AMEN");
+    static final Enum MT_AMF = Enum.forString("MT-AMF");
+    static final Enum MT_AMI = Enum.forString("MT-AMI");
+    static final Enum MT_AMLF = Enum.forString("MT-AMLF");
+    static final Enum MT_AMME = Enum.forString("MT-AMME");
+    static final Enum MT_AMPF = Enum.forString("MT-AMPF");
+    static final Enum MT_AMPT = Enum.forString("MT-AMPT");
+    static final Enum MT_AMQT = Enum.forString("MT-AMQT");
+    static final Enum MT_ANGL = Enum.forString("MT-ANGL");
+    static final Enum MT_APRI = Enum.forString("MT-APRI");
+    static final Enum MT_ARCA = Enum.forString("MT-ARCA");
+    static final Enum MT_ARGG = Enum.forString("MT-ARGG");
+    static final Enum MT_ARIE = Enum.forString("MT-ARIE");
+    static final Enum MT_ARTI = Enum.forString("MT-ARTI");
+    static final Enum MT_ASPS = Enum.forString("MT-ASPS");
+    static final Enum MT_ATAS = Enum.forString("MT-ATAS");
+    static final Enum MT_ATEX = Enum.forString("MT-ATEX");
+    static final Enum MT_ATK = Enum.forString("MT-ATK");
+    static final Enum MT_ATV = Enum.forString("MT-ATV");
+    static final Enum MT_AUG = Enum.forString("MT-AUG");
+    static final Enum MT_AURA = Enum.forString("MT-AURA");
+    static final Enum MT_AVAN = Enum.forString("MT-AVAN");
+    static final Enum MT_BAJA = Enum.forString("MT-BAJA");
+    static final Enum MT_BALK = Enum.forString("MT-BALK");
+    static final Enum MT_BANM = Enum.forString("MT-BANM");
+    static final Enum MT_BBW = Enum.forString("MT-BBW");
+    static final Enum MT_BDFL = Enum.forString("MT-BDFL");
+    static final Enum MT_BEBE = Enum.forString("MT-BEBE");
+    static final Enum MT_BENE = Enum.forString("MT-BENE");
+    static final Enum MT_BETA = Enum.forString("MT-BETA");
+    static final Enum MT_BGDG = Enum.forString("MT-BGDG");
+    static final Enum MT_BGHM = Enum.forString("MT-BGHM");
+    static final Enum MT_BIAN = Enum.forString("MT-BIAN");
+    static final Enum MT_BIMO = Enum.forString("MT-BIMO");
+    static final Enum MT_BIRD = Enum.forString("MT-BIRD");
+    static final Enum MT_BLAE = Enum.forString("MT-BLAE");
+    static final Enum MT_BMW = Enum.forString("MT-BMW");
+    static final Enum MT_BNZA = Enum.forString("MT-BNZA");
+    static final Enum MT_BOMB = Enum.forString("MT-BOMB");
+    static final Enum MT_BOND = Enum.forString("MT-BOND");
+    static final Enum MT_BOSS = Enum.forString("MT-BOSS");
+    static final Enum MT_BREK = Enum.forString("MT-BREK");
+    static final Enum MT_BRID = Enum.forString("MT-BRID");
+    static final Enum MT_BRLL = Enum.forString("MT-BRLL");
+    static final Enum MT_BRON = Enum.forString("MT-BRON");
+    static final Enum MT_BRST = Enum.forString("MT-BRST");
+    static final Enum MT_BRTT = Enum.forString("MT-BRTT");
+    static final Enum MT_BRUT = Enum.forString("MT-BRUT");
+    static final Enum MT_BSA = Enum.forString("MT-BSA");
+    static final Enum MT_BTVS = Enum.forString("MT-BTVS");
+    static final Enum MT_BUEL = Enum.forString("MT-BUEL");
+    static final Enum MT_BUG = Enum.forString("MT-BUG");
+    static final Enum MT_BULT = Enum.forString("MT-BULT");
+    static final Enum MT_BURO = Enum.forString("MT-BURO");
+    static final Enum MT_CAAR = Enum.forString("MT-CAAR");
+    static final Enum MT_CABK = Enum.forString("MT-CABK");
+    static final Enum MT_CACY = Enum.forString("MT-CACY");
+    static final Enum MT_CAFF = Enum.forString("MT-CAFF");
+    static final Enum MT_CALO = Enum.forString("MT-CALO");
+    static final Enum MT_CANA = Enum.forString("MT-CANA");
+    static final Enum MT_CANN = Enum.forString("MT-CANN");
+    static final Enum MT_CAPR = Enum.forString("MT-CAPR");
+    static final Enum MT_CASL = Enum.forString("MT-CASL");
+    static final Enum MT_CATM = Enum.forString("MT-CATM");
+    static final Enum MT_CBRO = Enum.forString("MT-CBRO");
+    static final Enum MT_CCCY = Enum.forString("MT-CCCY");
+    static final Enum MT_CENT = Enum.forString("MT-CENT");
+    static final Enum MT_CEZE = Enum.forString("MT-CEZE");
+    static final Enum MT_CHAP = Enum.forString("MT-CHAP");
+    static final Enum MT_CHIB = Enum.forString("MT-CHIB");
+    static final Enum MT_CHLY = Enum.forString("MT-CHLY");
+    static final Enum MT_CHMC = Enum.forString("MT-CHMC");
+    static final Enum MT_CHTH = Enum.forString("MT-CHTH");
+    static final Enum MT_CIMA = Enum.forString("MT-CIMA");
+    static final Enum MT_CJGC = Enum.forString("MT-CJGC");
+    static final Enum MT_CLIT = Enum.forString("MT-CLIT");
+    static final Enum MT_CLMN = Enum.forString("MT-CLMN");
+    static final Enum MT_CMCC = Enum.forString("MT-CMCC");
+    static final Enum MT_CMCW = Enum.forString("MT-CMCW");
+    static final Enum MT_CMPG = Enum.forString("MT-CMPG");
+    static final Enum MT_COBM = Enum.forString("MT-COBM");
+    static final Enum MT_COCO = Enum.forString("MT-COCO");
+    static final Enum MT_COLB = Enum.forString("MT-COLB");
+    static final Enum MT_COMU = Enum.forString("MT-COMU");
+    static final Enum MT_COND = Enum.forString("MT-COND");
+    static final Enum MT_CONF = Enum.forString("MT-CONF");
+    static final Enum MT_CONT = Enum.forString("MT-CONT");
+    static final Enum MT_COOP = Enum.forString("MT-COOP");
+    static final Enum MT_COSM = Enum.forString("MT-COSM");
+    static final Enum MT_COTN = Enum.forString("MT-COTN");
+    static final Enum MT_CRAF = Enum.forString("MT-CRAF");
+    static final Enum MT_CREL = Enum.forString("MT-CREL");
+    static final Enum MT_CRGR = Enum.forString("MT-CRGR");
+    static final Enum MT_CTTM = Enum.forString("MT-CTTM");
+    static final Enum MT_CUSH = Enum.forString("MT-CUSH");
+    static final Enum MT_CUYL = Enum.forString("MT-CUYL");
+    static final Enum MT_CWPC = Enum.forString("MT-CWPC");
+    static final Enum MT_CYCL = Enum.forString("MT-CYCL");
+    static final Enum MT_CYSC = Enum.forString("MT-CYSC");
+    static final Enum MT_CZ = Enum.forString("MT-CZ");
+    static final Enum MT_DALE = Enum.forString("MT-DALE");
+    static final Enum MT_DANU = Enum.forString("MT-DANU");
+    static final Enum MT_DARW = Enum.forString("MT-DARW");
+    static final Enum MT_DAZN = Enum.forString("MT-DAZN");
+    static final Enum MT_DEER = Enum.forString("MT-DEER");
+    static final Enum MT_DERB = Enum.forString("MT-DERB");
+    static final Enum MT_DINL = Enum.forString("MT-DINL");
+    static final Enum MT_DKR = Enum.forString("MT-DKR");
+    static final Enum MT_DKW = Enum.forString("MT-DKW");
+    static final Enum MT_DMP = Enum.forString("MT-DMP");
+    static final Enum MT_DOT = Enum.forString("MT-DOT");
+    static final Enum MT_DSPD = Enum.forString("MT-DSPD");
+    static final Enum MT_DUCA = Enum.forString("MT-DUCA");
+    static final Enum MT_DYCY = Enum.forString("MT-DYCY");
+    static final Enum MT_DYTC = Enum.forString("MT-DYTC");
+    static final Enum MT_ECOB = Enum.forString("MT-ECOB");
+    static final Enum MT_ECTA = Enum.forString("MT-ECTA");
+    static final Enum MT_EDWN = Enum.forString("MT-EDWN");
+    static final Enum MT_EGLE = Enum.forString("MT-EGLE");
+    static final Enum MT_EKCH = Enum.forString("MT-EKCH");
+    static final Enum MT_ELCY = Enum.forString("MT-ELCY");
+    static final Enum MT_ELVT = Enum.forString("MT-ELVT");
+    static final Enum MT_EMML = Enum.forString("MT-EMML");
+    static final Enum MT_ENMC = Enum.forString("MT-ENMC");
+    static final Enum MT_ESIX = Enum.forString("MT-ESIX");
+    static final Enum MT_ETON = Enum.forString("MT-ETON");
+    static final Enum MT_EXCR = Enum.forString("MT-EXCR");
+    static final Enum MT_EXCY = Enum.forString("MT-EXCY");
+    static final Enum MT_EXHE = Enum.forString("MT-EXHE");
+    static final Enum MT_EXPL = Enum.forString("MT-EXPL");
+    static final Enum MT_FATC = Enum.forString("MT-FATC");
+    static final Enum MT_FHL = Enum.forString("MT-FHL");
+    static final Enum MT_FLAN = Enum.forString("MT-FLAN");
+    static final Enum MT_FLEO = Enum.forString("MT-FLEO");
+    static final Enum MT_FLYI = Enum.forString("MT-FLYI");
+    static final Enum MT_FN = Enum.forString("MT-FN");
+    static final Enum MT_FNTM = Enum.forString("MT-FNTM");
+    static final Enum MT_FOMO = Enum.forString("MT-FOMO");
+    static final Enum MT_FOX = Enum.forString("MT-FOX");
+    static final Enum MT_FOXI = Enum.forString("MT-FOXI");
+    static final Enum MT_FRBA = Enum.forString("MT-FRBA");
+    static final Enum MT_FRUN = Enum.forString("MT-FRUN");
+    static final Enum MT_FTRC = Enum.forString("MT-FTRC");
+    static final Enum MT_FUJI = Enum.forString("MT-FUJI");
+    static final Enum MT_GABB = Enum.forString("MT-GABB");
+    static final Enum MT_GADB = Enum.forString("MT-GADB");
+    static final Enum MT_GARE = Enum.forString("MT-GARE");
+    static final Enum MT_GEEL = Enum.forString("MT-GEEL");
+    static final Enum MT_GEMI = Enum.forString("MT-GEMI");
+    static final Enum MT_GENR = Enum.forString("MT-GENR");
+    static final Enum MT_GILE = Enum.forString("MT-GILE");
+    static final Enum MT_GILL = Enum.forString("MT-GILL");
+    static final Enum MT_GISN = Enum.forString("MT-GISN");
+    static final Enum MT_GITA = Enum.forString("MT-GITA");
+    static final Enum MT_GLBE = Enum.forString("MT-GLBE");
+    static final Enum MT_GLMB = Enum.forString("MT-GLMB");
+    static final Enum MT_GOGO = Enum.forString("MT-GOGO");
+    static final Enum MT_GOKT = Enum.forString("MT-GOKT");
+    static final Enum MT_GREV = Enum.forString("MT-GREV");
+    static final Enum MT_GROV = Enum.forString("MT-GROV");
+    static final Enum MT_GRRM = Enum.forString("MT-GRRM");
+    static final Enum MT_GRYE = Enum.forString("MT-GRYE");
+    static final Enum MT_GUIZ = Enum.forString("MT-GUIZ");
+    static final Enum MT_GUZO = Enum.forString("MT-GUZO");
+    static final Enum MT_HANS = Enum.forString("MT-HANS");
+    static final Enum MT_HAWT = Enum.forString("MT-HAWT");
+    static final Enum MT_HD = Enum.forString("MT-HD");
+    static final Enum MT_HEAL = Enum.forString("MT-HEAL");
+    static final Enum MT_HEAT = Enum.forString("MT-HEAT");
+    static final Enum MT_HEIN = Enum.forString("MT-HEIN");
+    static final Enum MT_HERC = Enum.forString("MT-HERC");
+    static final Enum MT_HGON = Enum.forString("MT-HGON");
+    static final Enum MT_HIAW = Enum.forString("MT-HIAW");
+    static final Enum MT_HLDH = Enum.forString("MT-HLDH");
+    static final Enum MT_HMVE = Enum.forString("MT-HMVE");
+    static final Enum MT_HODA = Enum.forString("MT-HODA");
+    static final Enum MT_HOF = Enum.forString("MT-HOF");
+    static final Enum MT_HOMD = Enum.forString("MT-HOMD");
+    static final Enum MT_HOND = Enum.forString("MT-HOND");
+    static final Enum MT_HORX = Enum.forString("MT-HORX");
+    static final Enum MT_HRTR = Enum.forString("MT-HRTR");
+    static final Enum MT_HUFY = Enum.forString("MT-HUFY");
+    static final Enum MT_HUML = Enum.forString("MT-HUML");
+    static final Enum MT_HUSA = Enum.forString("MT-HUSA");
+    static final Enum MT_HUSK = Enum.forString("MT-HUSK");
+    static final Enum MT_HUSQ = Enum.forString("MT-HUSQ");
+    static final Enum MT_HYOS = Enum.forString("MT-HYOS");
+    static final Enum MT_IND = Enum.forString("MT-IND");
+    static final Enum MT_INDI = Enum.forString("MT-INDI");
+    static final Enum MT_INGL = Enum.forString("MT-INGL");
+    static final Enum MT_INMC = Enum.forString("MT-INMC");
+    static final Enum MT_ITAL = Enum.forString("MT-ITAL");
+    static final Enum MT_ITAT = Enum.forString("MT-ITAT");
+    static final Enum MT_ITAV = Enum.forString("MT-ITAV");
+    static final Enum MT_ITOM = Enum.forString("MT-ITOM");
+    static final Enum MT_JAMM = Enum.forString("MT-JAMM");
+    static final Enum MT_JAWA = Enum.forString("MT-JAWA");
+    static final Enum MT_JB = Enum.forString("MT-JB");
+    static final Enum MT_JEHM = Enum.forString("MT-JEHM");
+    static final Enum MT_JIAN = Enum.forString("MT-JIAN");
+    static final Enum MT_JINS = Enum.forString("MT-JINS");
+    static final Enum MT_JMCY = Enum.forString("MT-JMCY");
+    static final Enum MT_JMS = Enum.forString("MT-JMS");
+    static final Enum MT_JOLI = Enum.forString("MT-JOLI");
+    static final Enum MT_JPTR = Enum.forString("MT-JPTR");
+    static final Enum MT_JUIL = Enum.forString("MT-JUIL");
+    static final Enum MT_KAM = Enum.forString("MT-KAM");
+    static final Enum MT_KAMI = Enum.forString("MT-KAMI");
+    static final Enum MT_KANN = Enum.forString("MT-KANN");
+    static final Enum MT_KAWK = Enum.forString("MT-KAWK");
+    static final Enum MT_KAZU = Enum.forString("MT-KAZU");
+    static final Enum MT_KCCF = Enum.forString("MT-KCCF");
+    static final Enum MT_KENY = Enum.forString("MT-KENY");
+    static final Enum MT_KITK = Enum.forString("MT-KITK");
+    static final Enum MT_KMSR = Enum.forString("MT-KMSR");
+    static final Enum MT_KNBR = Enum.forString("MT-KNBR");
+    static final Enum MT_KNTC = Enum.forString("MT-KNTC");
+    static final Enum MT_KOMR = Enum.forString("MT-KOMR");
+    static final Enum MT_KRDL = Enum.forString("MT-KRDL");
+    static final Enum MT_KROM = Enum.forString("MT-KROM");
+    static final Enum MT_KSEA = Enum.forString("MT-KSEA");
+    static final Enum MT_KTM = Enum.forString("MT-KTM");
+    static final Enum MT_KYMC = Enum.forString("MT-KYMC");
+    static final Enum MT_LAMB = Enum.forString("MT-LAMB");
+    static final Enum MT_LANR = Enum.forString("MT-LANR");
+    static final Enum MT_LAVE = Enum.forString("MT-LAVE");
+    static final Enum MT_LAZE = Enum.forString("MT-LAZE");
+    static final Enum MT_LCHG = Enum.forString("MT-LCHG");
+    static final Enum MT_LECT = Enum.forString("MT-LECT");
+    static final Enum MT_LEKT = Enum.forString("MT-LEKT");
+    static final Enum MT_LEM = Enum.forString("MT-LEM");
+    static final Enum MT_LEVI = Enum.forString("MT-LEVI");
+    static final Enum MT_LILA = Enum.forString("MT-LILA");
+    static final Enum MT_LILN = Enum.forString("MT-LILN");
+    static final Enum MT_LINH = Enum.forString("MT-LINH");
+    static final Enum MT_LOM = Enum.forString("MT-LOM");
+    static final Enum MT_LUKY = Enum.forString("MT-LUKY");
+    static final Enum MT_LYMA = Enum.forString("MT-LYMA");
+    static final Enum MT_MADM = Enum.forString("MT-MADM");
+    static final Enum MT_MAIC = Enum.forString("MT-MAIC");
+    static final Enum MT_MALA = Enum.forString("MT-MALA");
+    static final Enum MT_MALN = Enum.forString("MT-MALN");
+    static final Enum MT_MALY = Enum.forString("MT-MALY");
+    static final Enum MT_MANC = Enum.forString("MT-MANC");
+    static final Enum MT_MANE = Enum.forString("MT-MANE");
+    static final Enum MT_MARU = Enum.forString("MT-MARU");
+    static final Enum MT_MASY = Enum.forString("MT-MASY");
+    static final Enum MT_MATR = Enum.forString("MT-MATR");
+    static final Enum MT_MAV = Enum.forString("MT-MAV");
+    static final Enum MT_MBEE = Enum.forString("MT-MBEE");
+    static final Enum MT_MDS = Enum.forString("MT-MDS");
+    static final Enum MT_MEIT = Enum.forString("MT-MEIT");
+    static final Enum MT_MINI = Enum.forString("MT-MINI");
+    static final Enum MT_MINN = Enum.forString("MT-MINN");
+    static final Enum MT_MMCL = Enum.forString("MT-MMCL");
+    static final Enum MT_MNAR = Enum.forString("MT-MNAR");
+    static final Enum MT_MNRK = Enum.forString("MT-MNRK");
+    static final Enum MT_MNSN = Enum.forString("MT-MNSN");
+    static final Enum MT_MOBE = Enum.forString("MT-MOBE");
+    static final Enum MT_MOBI = Enum.forString("MT-MOBI");
+    static final Enum MT_MOCR = Enum.forString("MT-MOCR");
+    static final Enum MT_MOCY = Enum.forString("MT-MOCY");
+    static final Enum MT_MOGU = Enum.forString("MT-MOGU");
+    static final Enum MT_MOJA = Enum.forString("MT-MOJA");
+    static final Enum MT_MOMO = Enum.forString("MT-MOMO");
+    static final Enum MT_MOND = Enum.forString("MT-MOND");
+    static final Enum MT_MONT = Enum.forString("MT-MONT");
+    static final Enum MT_MORU = Enum.forString("MT-MORU");
+    static final Enum MT_MOTB = Enum.forString("MT-MOTB");
+    static final Enum MT_MOTM = Enum.forString("MT-MOTM");
+    static final Enum MT_MOTN = Enum.forString("MT-MOTN");
+    static final Enum MT_MOTS = Enum.forString("MT-MOTS");
+    static final Enum MT_MRCO = Enum.forString("MT-MRCO");
+    static final Enum MT_MRTE = Enum.forString("MT-MRTE");
+    static final Enum MT_MTBE = Enum.forString("MT-MTBE");
+    static final Enum MT_MTCH = Enum.forString("MT-MTCH");
+    static final Enum MT_MTD = Enum.forString("MT-MTD");
+    static final Enum MT_MUHL = Enum.forString("MT-MUHL");
+    static final Enum MT_MURR = Enum.forString("MT-MURR");
+    static final Enum MT_MUST = Enum.forString("MT-MUST");
+    static final Enum MT_MVAU = Enum.forString("MT-MVAU");
+    static final Enum MT_MWCH = Enum.forString("MT-MWCH");
+    static final Enum MT_MZ = Enum.forString("MT-MZ");
+    static final Enum MT_NEGR = Enum.forString("MT-NEGR");
+    static final Enum MT_NEVM = Enum.forString("MT-NEVM");
+    static final Enum MT_NFLD = Enum.forString("MT-NFLD");
+    static final Enum MT_NORM = Enum.forString("MT-NORM");
+    static final Enum MT_NORT = Enum.forString("MT-NORT");
+    static final Enum MT_NSU = Enum.forString("MT-NSU");
+    static final Enum MT_NUON = Enum.forString("MT-NUON");
+    static final Enum MT_NVTA = Enum.forString("MT-NVTA");
+    static final Enum MT_ODSS = Enum.forString("MT-ODSS");
+    static final Enum MT_OMEG = Enum.forString("MT-OMEG");
+    static final Enum MT_OPL = Enum.forString("MT-OPL");
+    static final Enum MT_OSSA = Enum.forString("MT-OSSA");
+    static final Enum MT_OZBK = Enum.forString("MT-OZBK");
+    static final Enum MT_PACE = Enum.forString("MT-PACE");
+    static final Enum MT_PACS = Enum.forString("MT-PACS");
+    static final Enum MT_PAGS = Enum.forString("MT-PAGS");
+    static final Enum MT_PAIS = Enum.forString("MT-PAIS");
+    static final Enum MT_PAND = Enum.forString("MT-PAND");
+    static final Enum MT_PANN = Enum.forString("MT-PANN");
+    static final Enum MT_PANT = Enum.forString("MT-PANT");
+    static final Enum MT_PARI = Enum.forString("MT-PARI");
+    static final Enum MT_PAUG = Enum.forString("MT-PAUG");
+    static final Enum MT_PDRS = Enum.forString("MT-PDRS");
+    static final Enum MT_PDV = Enum.forString("MT-PDV");
+    static final Enum MT_PEDA = Enum.forString("MT-PEDA");
+    static final Enum MT_PEDD = Enum.forString("MT-PEDD");
+    static final Enum MT_PEGA = Enum.forString("MT-PEGA");
+    static final Enum MT_PENN = Enum.forString("MT-PENN");
+    static final Enum MT_PENT = Enum.forString("MT-PENT");
+    static final Enum MT_PEUG = Enum.forString("MT-PEUG");
+    static final Enum MT_PGSS = Enum.forString("MT-PGSS");
+    static final Enum MT_PHOE = Enum.forString("MT-PHOE");
+    static final Enum MT_PIAZ = Enum.forString("MT-PIAZ");
+    static final Enum MT_PINT = Enum.forString("MT-PINT");
+    static final Enum MT_PNTA = Enum.forString("MT-PNTA");
+    static final Enum MT_PNZR = Enum.forString("MT-PNZR");
+    static final Enum MT_POIN = Enum.forString("MT-POIN");
+    static final Enum MT_POLI = Enum.forString("MT-POLI");
+    static final Enum MT_POLS = Enum.forString("MT-POLS");
+    static final Enum MT_PONY = Enum.forString("MT-PONY");
+    static final Enum MT_POWL = Enum.forString("MT-POWL");
+    static final Enum MT_PRCW = Enum.forString("MT-PRCW");
+    static final Enum MT_PREM = Enum.forString("MT-PREM");
+    static final Enum MT_PRNE = Enum.forString("MT-PRNE");
+    static final Enum MT_PROG = Enum.forString("MT-PROG");
+    static final Enum MT_PROM = Enum.forString("MT-PROM");
+    static final Enum MT_PRYE = Enum.forString("MT-PRYE");
+    static final Enum MT_PSCC = Enum.forString("MT-PSCC");
+    static final Enum MT_PUCH = Enum.forString("MT-PUCH");
+    static final Enum MT_PWDY = Enum.forString("MT-PWDY");
+    static final Enum MT_QING = Enum.forString("MT-QING");
+    static final Enum MT_QINJ = Enum.forString("MT-QINJ");
+    static final Enum MT_RABB = Enum.forString("MT-RABB");
+    static final Enum MT_RABJ = Enum.forString("MT-RABJ");
+    static final Enum MT_RCCM = Enum.forString("MT-RCCM");
+    static final Enum MT_RDER = Enum.forString("MT-RDER");
+    static final Enum MT_RDLY = Enum.forString("MT-RDLY");
+    static final Enum MT_RECO = Enum.forString("MT-RECO");
+    static final Enum MT_RECR = Enum.forString("MT-RECR");
+    static final Enum MT_REDH = Enum.forString("MT-REDH");
+    static final Enum MT_REVN = Enum.forString("MT-REVN");
+    static final Enum MT_REX = Enum.forString("MT-REX");
+    static final Enum MT_RICK = Enum.forString("MT-RICK");
+    static final Enum MT_RIVI = Enum.forString("MT-RIVI");
+    static final Enum MT_RIVS = Enum.forString("MT-RIVS");
+    static final Enum MT_RKWL = Enum.forString("MT-RKWL");
+    static final Enum MT_ROCK = Enum.forString("MT-ROCK");
+    static final Enum MT_ROEN = Enum.forString("MT-ROEN");
+    static final Enum MT_ROKN = Enum.forString("MT-ROKN");
+    static final Enum MT_ROLL = Enum.forString("MT-ROLL");
+    static final Enum MT_ROLT = Enum.forString("MT-ROLT");
+    static final Enum MT_RORU = Enum.forString("MT-RORU");
+    static final Enum MT_RPTR = Enum.forString("MT-RPTR");
+    static final Enum MT_RRMM = Enum.forString("MT-RRMM");
+    static final Enum MT_RUMI = Enum.forString("MT-RUMI");
+    static final Enum MT_RUPP = Enum.forString("MT-RUPP");
+    static final Enum MT_RUTM = Enum.forString("MT-RUTM");
+    static final Enum MT_RUTT = Enum.forString("MT-RUTT");
+    static final Enum MT_SACH = Enum.forString("MT-SACH");
+    static final Enum MT_SAFA = Enum.forString("MT-SAFA");
+    static final Enum MT_SAFT = Enum.forString("MT-SAFT");
+    static final Enum MT_SALB = Enum.forString("MT-SALB");
+    static final Enum MT_SANT = Enum.forString("MT-SANT");
+    static final Enum MT_SARA = Enum.forString("MT-SARA");
+    static final Enum MT_SCAM = Enum.forString("MT-SCAM");
+    static final Enum MT_SCAT = Enum.forString("MT-SCAT");
+    static final Enum MT_SCOA = Enum.forString("MT-SCOA");
+    static final Enum MT_SCOR = Enum.forString("MT-SCOR");
+    static final Enum MT_SCOT = Enum.forString("MT-SCOT");
+    static final Enum MT_SEAG = Enum.forString("MT-SEAG");
+    static final Enum MT_SEAR = Enum.forString("MT-SEAR");
+    static final Enum MT_SECY = Enum.forString("MT-SECY");
+    static final Enum MT_SEXT = Enum.forString("MT-SEXT");
+    static final Enum MT_SFM = Enum.forString("MT-SFM");
+    static final Enum MT_SHJZ = Enum.forString("MT-SHJZ");
+    static final Enum MT_SHL = Enum.forString("MT-SHL");
+    static final Enum MT_SHRC = Enum.forString("MT-SHRC");
+    static final Enum MT_SILP = Enum.forString("MT-SILP");
+    static final Enum MT_SIMS = Enum.forString("MT-SIMS");
+    static final Enum MT_SKTM = Enum.forString("MT-SKTM");
+    static final Enum MT_SLEL = Enum.forString("MT-SLEL");
+    static final Enum MT_SMBT = Enum.forString("MT-SMBT");
+    static final Enum MT_SMIL = Enum.forString("MT-SMIL");
+    static final Enum MT_SMLX = Enum.forString("MT-SMLX");
+    static final Enum MT_SNDR = Enum.forString("MT-SNDR");
+    static final Enum MT_SNOC = Enum.forString("MT-SNOC");
+    static final Enum MT_SNOW = Enum.forString("MT-SNOW");
+    static final Enum MT_SNSA = Enum.forString("MT-SNSA");
+    static final Enum MT_SNTE = Enum.forString("MT-SNTE");
+    static final Enum MT_SOLO = Enum.forString("MT-SOLO");
+    static final Enum MT_SONI = Enum.forString("MT-SONI");
+    static final Enum MT_SPAR = Enum.forString("MT-SPAR");
+    static final Enum MT_SPBD = Enum.forString("MT-SPBD");
+    static final Enum MT_SPCY = Enum.forString("MT-SPCY");
+    static final Enum MT_SPEC = Enum.forString("MT-SPEC");
+    static final Enum MT_SPED = Enum.forString("MT-SPED");
+    static final Enum MT_SPEG = Enum.forString("MT-SPEG");
+    static final Enum MT_SPNT = Enum.forString("MT-SPNT");
+    static final Enum MT_SPOR = Enum.forString("MT-SPOR");
+    static final Enum MT_SPRD = Enum.forString("MT-SPRD");
+    static final Enum MT_SPRE = Enum.forString("MT-SPRE");
+    static final Enum MT_SPWY = Enum.forString("MT-SPWY");
+    static final Enum MT_SUFL = Enum.forString("MT-SUFL");
+    static final Enum MT_SUN = Enum.forString("MT-SUN");
+    static final Enum MT_SUNB = Enum.forString("MT-SUNB");
+    static final Enum MT_SUVE = Enum.forString("MT-SUVE");
+    static final Enum MT_SUZI = Enum.forString("MT-SUZI");
+    static final Enum MT_SWIF = Enum.forString("MT-SWIF");
+    static final Enum MT_SWIT = Enum.forString("MT-SWIT");
+    static final Enum MT_SWM = Enum.forString("MT-SWM");
+    static final Enum MT_TACQ = Enum.forString("MT-TACQ");
+    static final Enum MT_TAIZ = Enum.forString("MT-TAIZ");
+    static final Enum MT_TAKA = Enum.forString("MT-TAKA");
+    static final Enum MT_TALG = Enum.forString("MT-TALG");
+    static final Enum MT_TECU = Enum.forString("MT-TECU");
+    static final Enum MT_TEMP = Enum.forString("MT-TEMP");
+    static final Enum MT_TESI = Enum.forString("MT-TESI");
+    static final Enum MT_TG = Enum.forString("MT-TG");
+    static final Enum MT_THPN = Enum.forString("MT-THPN");
+    static final Enum MT_TITN = Enum.forString("MT-TITN");
+    static final Enum MT_TMCC = Enum.forString("MT-TMCC");
+    static final Enum MT_TOHA = Enum.forString("MT-TOHA");
+    static final Enum MT_TOMO = Enum.forString("MT-TOMO");
+    static final Enum MT_TORA = Enum.forString("MT-TORA");
+    static final Enum MT_TORR = Enum.forString("MT-TORR");
+    static final Enum MT_TOWR = Enum.forString("MT-TOWR");
+    static final Enum MT_TRBO = Enum.forString("MT-TRBO");
+    static final Enum MT_TRBR = Enum.forString("MT-TRBR");
+    static final Enum MT_TRBZ = Enum.forString("MT-TRBZ");
+    static final Enum MT_TRDD = Enum.forString("MT-TRDD");
+    static final Enum MT_TRFL = Enum.forString("MT-TRFL");
+    static final Enum MT_TRHK = Enum.forString("MT-TRHK");
+    static final Enum MT_TRHO = Enum.forString("MT-TRHO");
+    static final Enum MT_TRIH = Enum.forString("MT-TRIH");
+    static final Enum MT_TRIK = Enum.forString("MT-TRIK");
+    static final Enum MT_TRPT = Enum.forString("MT-TRPT");
+    static final Enum MT_TRRD = Enum.forString("MT-TRRD");
+    static final Enum MT_TRSP = Enum.forString("MT-TRSP");
+    static final Enum MT_TRTR = Enum.forString("MT-TRTR");
+    static final Enum MT_TRUM = Enum.forString("MT-TRUM");
+    static final Enum MT_TRVS = Enum.forString("MT-TRVS");
+    static final Enum MT_TSSY = Enum.forString("MT-TSSY");
+    static final Enum MT_TUTR = Enum.forString("MT-TUTR");
+    static final Enum MT_TWIS = Enum.forString("MT-TWIS");
+    static final Enum MT_TWN = Enum.forString("MT-TWN");
+    static final Enum MT_TWST = Enum.forString("MT-TWST");
+    static final Enum MT_TYAN = Enum.forString("MT-TYAN");
+    static final Enum MT_TYCO = Enum.forString("MT-TYCO");
+    static final Enum MT_ULAC = Enum.forString("MT-ULAC");
+    static final Enum MT_ULMC = Enum.forString("MT-ULMC");
+    static final Enum MT_ULTM = Enum.forString("MT-ULTM");
+    static final Enum MT_UNLI = Enum.forString("MT-UNLI");
+    static final Enum MT_URAL = Enum.forString("MT-URAL");
+    static final Enum MT_VALI = Enum.forString("MT-VALI");
+    static final Enum MT_VANV = Enum.forString("MT-VANV");
+    static final Enum MT_VATC = Enum.forString("MT-VATC");
+    static final Enum MT_VCTY = Enum.forString("MT-VCTY");
+    static final Enum MT_VEGL = Enum.forString("MT-VEGL");
+    static final Enum MT_VENU = Enum.forString("MT-VENU");
+    static final Enum MT_VESP = Enum.forString("MT-VESP");
+    static final Enum MT_VICT = Enum.forString("MT-VICT");
+    static final Enum MT_VILL = Enum.forString("MT-VILL");
+    static final Enum MT_VINC = Enum.forString("MT-VINC");
+    static final Enum MT_VLCN = Enum.forString("MT-VLCN");
+    static final Enum MT_VLCT = Enum.forString("MT-VLCT");
+    static final Enum MT_VNTO = Enum.forString("MT-VNTO");
+    static final Enum MT_VREN = Enum.forString("MT-VREN");
+    static final Enum MT_VTMT = Enum.forString("MT-VTMT");
+    static final Enum MT_WASP = Enum.forString("MT-WASP");
+    static final Enum MT_WAYN = Enum.forString("MT-WAYN");
+    static final Enum MT_WHIT = Enum.forString("MT-WHIT");
+    static final Enum MT_WHZR = Enum.forString("MT-WHZR");
+    static final Enum MT_WILD = Enum.forString("MT-WILD");
+    static final Enum MT_WILG = Enum.forString("MT-WILG");
+    static final Enum MT_WILS = Enum.forString("MT-WILS");
+    static final Enum MT_WSK = Enum.forString("MT-WSK");
+    static final Enum MT_WTSN = Enum.forString("MT-WTSN");
+    static final Enum MT_WWMC = Enum.forString("MT-WWMC");
+    static final Enum MT_XTRM = Enum.forString("MT-XTRM");
+    static final Enum MT_YAMA = Enum.forString("MT-YAMA");
+    static final Enum MT_YANK = Enum.forString("MT-YANK");
+    static final Enum MT_YENC = Enum.forString("MT-YENC");
+    static final Enum MT_ZHON = Enum.forString("MT-ZHON");
+    static final Enum MT_ZNEL = Enum.forString("MT-ZNEL");
+    static final Enum MT_ZOBO = Enum.forString("MT-ZOBO");
+    static final Enum MT_ZUND = Enum.forString("MT-ZUND");
+    static final Enum MTBE = Enum.forString("MTBE");
+    static final Enum MTCH = Enum.forString("MTCH");
+    static final Enum MTCI = Enum.forString("MTCI");
+    static final Enum MTD = Enum.forString("MTD");
+    static final Enum MTMV = Enum.forString("MTMV");
+    static final Enum MTPA = Enum.forString("MTPA");
+    static final Enum MTPI = Enum.forString("MTPI");
+    static final Enum MTRA = Enum.forString("MTRA");
+    static final Enum MTRY = Enum.forString("MTRY");
+    static final Enum MTTI = Enum.forString("MTTI");
+    static final Enum MUDC = Enum.forString("MUDC");
+    static final Enum MUHL = Enum.forString("MUHL");
+    static final Enum MULE = Enum.forString("MULE");
+    static final Enum MULL = Enum.forString("MULL");
+    static final Enum MULQ = Enum.forString("MULQ");
+    static final Enum MULT = Enum.forString("MULT");
+    static final Enum MUNC = Enum.forString("MUNC");
+    static final Enum MUNT = Enum.forString("MUNT");
+    static final Enum MURE = Enum.forString("MURE");
+    static final Enum MURM = Enum.forString("MURM");
+    static final Enum MURP = Enum.forString("MURP");
+    static final Enum MURR = Enum.forString("MURR");
+    static final Enum MURT = Enum.forString("MURT");
+    static final Enum MUSG = Enum.forString("MUSG");
+    static final Enum MUST = Enum.forString("MUST");
+    static final Enum MUVA = Enum.forString("MUVA");
+    static final Enum MVAU = Enum.forString("MVAU");
+    static final Enum MVEN = Enum.forString("MVEN");
+    static final Enum MWCH = Enum.forString("MWCH");
+    static final Enum MWGE = Enum.forString("MWGE");
+    static final Enum MWMC = Enum.forString("MWMC");
+    static final Enum MWST = Enum.forString("MWST");
+    static final Enum MXAT = Enum.forString("MXAT");
+    static final Enum MYCO = Enum.forString("MYCO");
+    static final Enum MYFA = Enum.forString("MYFA");
+    static final Enum MYWA = Enum.forString("MYWA");
+    static final Enum MZ = Enum.forString("MZ");
+    static final Enum MZMA = Enum.forString("MZMA");
+    static final Enum NABO = Enum.forString("NABO");
+    static final Enum NACR = Enum.forString("NACR");
+    static final Enum NAHE = Enum.forString("NAHE");
+    static final Enum NAMC = Enum.forString("NAMC");
+    static final Enum NAMO = Enum.forString("NAMO");
+    static final Enum NARD = Enum.forString("NARD");
+    static final Enum NASA = Enum.forString("NASA");
+    static final Enum NASH = Enum.forString("NASH");
+    static final Enum NASM = Enum.forString("NASM");
+    static final Enum NASU = Enum.forString("NASU");
+    static final Enum NATL = Enum.forString("NATL");
+    static final Enum NATW = Enum.forString("NATW");
+    static final Enum NAVI = Enum.forString("NAVI");
+    static final Enum NAVJ = Enum.forString("NAVJ");
+    static final Enum NBAY = Enum.forString("NBAY");
+    static final Enum NDMC = Enum.forString("NDMC");
+    static final Enum NEAL = Enum.forString("NEAL");
+    static final Enum NEBM = Enum.forString("NEBM");
+    static final Enum NECK = Enum.forString("NECK");
+    static final Enum NECT = Enum.forString("NECT");
+    static final Enum NEDL = Enum.forString("NEDL");
+    static final Enum NEGR = Enum.forString("NEGR");
+    static final Enum NEHO = Enum.forString("NEHO");
+    static final Enum NELL = Enum.forString("NELL");
+    static final Enum NELN = Enum.forString("NELN");
+    static final Enum NELS = Enum.forString("NELS");
+    static final Enum NEOP = Enum.forString("NEOP");
+    static final Enum NEOS = Enum.forString("NEOS");
+    static final Enum NEPT = Enum.forString("NEPT");
+    static final Enum NERC = Enum.forString("NERC");
+    static final Enum NEUF = Enum.forString("NEUF");
+    static final Enum NEVA = Enum.forString("NEVA");
+    static final Enum NEVD = Enum.forString("NEVD");
+    static final Enum NEVI = Enum.forString("NEVI");
+    static final Enum NEVL = Enum.forString("NEVL");
+    static final Enum NEVM = Enum.forString("NEVM");
+    static final Enum NEWC = Enum.forString("NEWC");
+    static final Enum NEWD = Enum.forString("NEWD");
+    static final Enum NEWE = Enum.forString("NEWE");
+    static final Enum NEWH = Enum.forString("NEWH");
+    static final Enum NEWI = Enum.forString("NEWI");
+    static final Enum NEWK = Enum.forString("NEWK");
+    static final Enum NEWL = Enum.forString("NEWL");
+    static final Enum NEWM = Enum.forString("NEWM");
+    static final Enum NEWN = Enum.forString("NEWN");
+    static final Enum NEWP = Enum.forString("NEWP");
+    static final Enum NEWS = Enum.forString("NEWS");
+    static final Enum NEWT = Enum.forString("NEWT");
+    static final Enum NFLD = Enum.forString("NFLD");
+    static final Enum NHYD = Enum.forString("NHYD");
+    static final Enum NIAG = Enum.forString("NIAG");
+    static final Enum NICE = Enum.forString("NICE");
+    
+    static final int INT_AAPX = Enum.INT_AAPX;
+    static final int INT_AARD = Enum.INT_AARD;
+    static final int INT_AATM = Enum.INT_AATM;
+    static final int INT_AATS = Enum.INT_AATS;
+    static final int INT_AAWL = Enum.INT_AAWL;
+    static final int INT_AAWS = Enum.INT_AAWS;
+    static final int INT_ABAR = Enum.INT_ABAR;
+    static final int INT_ABBO = Enum.INT_ABBO;
+    static final int INT_ABC = Enum.INT_ABC;
+    static final int INT_ABCC = Enum.INT_ABCC;
+    static final int INT_ABCH = Enum.INT_ABCH;
+    static final int INT_ABCO = Enum.INT_ABCO;
+    static final int INT_ABER = Enum.INT_ABER;
+    static final int INT_ABFI = Enum.INT_ABFI;
+    static final int INT_ABIA = Enum.INT_ABIA;
+    static final int INT_ABTM = Enum.INT_ABTM;
+    static final int INT_ABTR = Enum.INT_ABTR;
+    static final int INT_AC = Enum.INT_AC;
+    static final int INT_ACAD = Enum.INT_ACAD;
+    static final int INT_ACAE = Enum.INT_ACAE;
+    static final int INT_ACAI = Enum.INT_ACAI;
+    static final int INT_ACCU = Enum.INT_ACCU;
+    static final int INT_ACE = Enum.INT_ACE;
+    static final int INT_ACEC = Enum.INT_ACEC;
+    static final int INT_ACEE = Enum.INT_ACEE;
+    static final int INT_ACKN = Enum.INT_ACKN;
+    static final int INT_ACME = Enum.INT_ACME;
+    static final int INT_ACMM = Enum.INT_ACMM;
+    static final int INT_ACOR = Enum.INT_ACOR;
+    static final int INT_ACRO = Enum.INT_ACRO;
+    static final int INT_ACTD = Enum.INT_ACTD;
+    static final int INT_ACTE = Enum.INT_ACTE;
+    static final int INT_ACTO = Enum.INT_ACTO;
+    static final int INT_ACUR = Enum.INT_ACUR;
+    static final int INT_ADA = Enum.INT_ADA;
+    static final int INT_ADBV = Enum.INT_ADBV;
+    static final int INT_ADDI = Enum.INT_ADDI;
+    static final int INT_ADET = Enum.INT_ADET;
+    static final int INT_ADLR = Enum.INT_ADLR;
+    static final int INT_ADMI = Enum.INT_ADMI;
+    static final int INT_ADMS = Enum.INT_ADMS;
+    static final int INT_ADMT = Enum.INT_ADMT;
+    static final int INT_ADSP = Enum.INT_ADSP;
+    static final int INT_ADVA = Enum.INT_ADVA;
+    static final int INT_ADVE = Enum.INT_ADVE;
+    static final int INT_ADVN = Enum.INT_ADVN;
+    static final int INT_ADVS = Enum.INT_ADVS;
+    static final int INT_AEAG = Enum.INT_AEAG;
+    static final int INT_AELI = Enum.INT_AELI;
+    static final int INT_AERA = Enum.INT_AERA;
+    static final int INT_AERG = Enum.INT_AERG;
+    static final int INT_AERI = Enum.INT_AERI;
+    static final int INT_AERO = Enum.INT_AERO;
+    static final int INT_AETA = Enum.INT_AETA;
+    static final int INT_AGCH = Enum.INT_AGCH;
+    static final int INT_AGCO = Enum.INT_AGCO;
+    static final int INT_AGDC = Enum.INT_AGDC;
+    static final int INT_AGRA = Enum.INT_AGRA;
+    static final int INT_AGRI = Enum.INT_AGRI;
+    static final int INT_AGRO = Enum.INT_AGRO;
+    static final int INT_AGSY = Enum.INT_AGSY;
+    static final int INT_AGTR = Enum.INT_AGTR;
+    static final int INT_AGYL = Enum.INT_AGYL;
+    static final int INT_AIH = Enum.INT_AIH;
+    static final int INT_AIRC = Enum.INT_AIRC;
+    static final int INT_AIRE = Enum.INT_AIRE;
+    static final int INT_AIRF = Enum.INT_AIRF;
+    static final int INT_AIRI = Enum.INT_AIRI;
+    static final int INT_AIRM = Enum.INT_AIRM;
+    static final int INT_AIRO = Enum.INT_AIRO;
+    static final int INT_AIRP = Enum.INT_AIRP;
+    static final int INT_AIRS = Enum.INT_AIRS;
+    static final int INT_AJAX = Enum.INT_AJAX;
+    static final int INT_AJIN = Enum.INT_AJIN;
+    static final int INT_AJS = Enum.INT_AJS;
+    static final int INT_AJTR = Enum.INT_AJTR;
+    static final int INT_AJW = Enum.INT_AJW;
+    static final int INT_AJXE = Enum.INT_AJXE;
+    static final int INT_ALAB = Enum.INT_ALAB;
+    static final int INT_ALAD = Enum.INT_ALAD;
+    static final int INT_ALAI = Enum.INT_ALAI;
+    static final int INT_ALAR = Enum.INT_ALAR;
+    static final int INT_ALAS = Enum.INT_ALAS;
+    static final int INT_ALBE = Enum.INT_ALBE;
+    static final int INT_ALCA = Enum.INT_ALCA;
+    static final int INT_ALCI = Enum.INT_ALCI;
+    static final int INT_ALCO = Enum.INT_ALCO;
+    static final int INT_ALED = Enum.INT_ALED;
+    static final int INT_ALEN = Enum.INT_ALEN;
+    static final int INT_ALEX = Enum.INT_ALEX;
+    static final int INT_ALFA = Enum.INT_ALFA;
+    static final int INT_ALFB = Enum.INT_ALFB;
+    static final int INT_ALFO = Enum.INT_ALFO;
+    static final int INT_ALIE = Enum.INT_ALIE;
+    static final int INT_ALIS = Enum.INT_ALIS;
+    static final int INT_ALJO = Enum.INT_ALJO;
+    static final int INT_ALKO = Enum.INT_ALKO;
+    static final int INT_ALL = Enum.INT_ALL;
+    static final int INT_ALLA = Enum.INT_ALLA;
+    static final int INT_ALLB = Enum.INT_ALLB;
+    static final int INT_ALLC = Enum.INT_ALLC;
+    static final int INT_ALLD = Enum.INT_ALLD;
+    static final int INT_ALLE = Enum.INT_ALLE;
+    static final int INT_ALLF = Enum.INT_ALLF;
+    static final int INT_ALLI = Enum.INT_ALLI;
+    static final int INT_ALLK = Enum.INT_ALLK;
+    static final int INT_ALLL = Enum.INT_ALLL;
+    static final int INT_ALLM = Enum.INT_ALLM;
+    static final int INT_ALLN = Enum.INT_ALLN;
+    static final int INT_ALLO = Enum.INT_ALLO;
+    static final int INT_ALLP = Enum.INT_ALLP;
+    static final int INT_ALLR = Enum.INT_ALLR;
+    static final int INT_ALLS = Enum.INT_ALLS;
+    static final int INT_ALLT = Enum.INT_ALLT;
+    static final int INT_ALLU = Enum.INT_ALLU;
+    static final int INT_ALLW = Enum.INT_ALLW;
+    static final int INT_ALMA = Enum.INT_ALMA;
+    static final int INT_ALMC = Enum.INT_ALMC;
+    static final int INT_ALMD = Enum.INT_ALMD;
+    static final int INT_ALME = Enum.INT_ALME;
+    static final int INT_ALMI = Enum.INT_ALMI;
+    static final int INT_ALMN = Enum.INT_ALMN;
+    static final int INT_ALNM = Enum.INT_ALNM;
+    static final int INT_ALOH = Enum.INT_ALOH;
+    static final int INT_ALOU = Enum.INT_ALOU;
+    static final int INT_ALPF = Enum.INT_ALPF;
+    static final int INT_ALPH = Enum.INT_ALPH;
+    static final int INT_ALPI = Enum.INT_ALPI;
+    static final int INT_ALSE = Enum.INT_ALSE;
+    static final int INT_ALSP = Enum.INT_ALSP;
+    static final int INT_ALST = Enum.INT_ALST;
+    static final int INT_ALTA = Enum.INT_ALTA;
+    static final int INT_ALTC = Enum.INT_ALTC;
+    static final int INT_ALTE = Enum.INT_ALTE;
+    static final int INT_ALUC = Enum.INT_ALUC;
+    static final int INT_ALUE = Enum.INT_ALUE;
+    static final int INT_ALUM = Enum.INT_ALUM;
+    static final int INT_ALUT = Enum.INT_ALUT;
+    static final int INT_ALVI = Enum.INT_ALVI;
+    static final int INT_ALWY = Enum.INT_ALWY;
+    static final int INT_ALYT = Enum.INT_ALYT;
+    static final int INT_AM = Enum.INT_AM;
+    static final int INT_AMAU = Enum.INT_AMAU;
+    static final int INT_AMBA = Enum.INT_AMBA;
+    static final int INT_AMC = Enum.INT_AMC;
+    static final int INT_AMCC = Enum.INT_AMCC;
+    static final int INT_AMCM = Enum.INT_AMCM;
+    static final int INT_AMCO = Enum.INT_AMCO;
+    static final int INT_AMCP = Enum.INT_AMCP;
+    static final int INT_AMCR = Enum.INT_AMCR;
+    static final int INT_AMDB = Enum.INT_AMDB;
+    static final int INT_AMDI = Enum.INT_AMDI;
+    static final int INT_AME = Enum.INT_AME;
+    static final int INT_AMEA = Enum.INT_AMEA;
+    static final int INT_AMEB = Enum.INT_AMEB;
+    static final int INT_AMEC = Enum.INT_AMEC;
+    static final int INT_AMED = Enum.INT_AMED;
+    static final int INT_AMEE = Enum.INT_AMEE;
+    static final int INT_AMEH = Enum.INT_AMEH;
+    static final int INT_AMEI = Enum.INT_AMEI;
+    static final int INT_AMEL = Enum.INT_AMEL;
+    static final int INT_AMEM = Enum.INT_AMEM;
+    static final int INT_AMEN = Enum.INT_AMEN;
+    static final int INT_AMEP = Enum.INT_AMEP;
+    static final int INT_AMER = Enum.INT_AMER;
+    static final int INT_AMES = Enum.INT_AMES;
+    static final int INT_AMET = Enum.INT_AMET;
+    static final int INT_AMF = Enum.INT_AMF;
+    static final int INT_AMFA = Enum.INT_AMFA;
+    static final int INT_AMGN = Enum.INT_AMGN;
+    static final int INT_AMHL = Enum.INT_AMHL;
+    static final int INT_AMHO = Enum.INT_AMHO;
+    static final int INT_AMI = Enum.INT_AMI;
+    static final int INT_AMIN = Enum.INT_AMIN;
+    static final int INT_AMJE = Enum.INT_AMJE;
+    static final int INT_AMLF = Enum.INT_AMLF;
+    static final int INT_AMMA = Enum.INT_AMMA;
+    static final int INT_AMME = Enum.INT_AMME;
+    static final int INT_AMPC = Enum.INT_AMPC;
+    static final int INT_AMPF = Enum.INT_AMPF;
+    static final int INT_AMPH = Enum.INT_AMPH;
+    static final int INT_AMPT = Enum.INT_AMPT;
+    static final int INT_AMQT = Enum.INT_AMQT;
+    static final int INT_AMRC = Enum.INT_AMRC;
+    static final int INT_AMRD = Enum.INT_AMRD;
+    static final int INT_AMRI = Enum.INT_AMRI;
+    static final int INT_AMRO = Enum.INT_AMRO;
+    static final int INT_AMSW = Enum.INT_AMSW;
+    static final int INT_AMT = Enum.INT_AMT;
+    static final int INT_AMTC = Enum.INT_AMTC;
+    static final int INT_AMTN = Enum.INT_AMTN;
+    static final int INT_AMTR = Enum.INT_AMTR;
+    static final int INT_AMTS = Enum.INT_AMTS;
+    static final int INT_AMYP = Enum.INT_AMYP;
+    static final int INT_ANAL = Enum.INT_ANAL;
+    static final int INT_ANCH = Enum.INT_ANCH;
+    static final int INT_ANDE = Enum.INT_ANDE;
+    static final int INT_ANDH = Enum.INT_ANDH;
+    static final int INT_ANDI = Enum.INT_ANDI;
+    static final int INT_ANDM = Enum.INT_ANDM;
+    static final int INT_ANDR = Enum.INT_ANDR;
+    static final int INT_ANDS = Enum.INT_ANDS;
+    static final int INT_ANGE = Enum.INT_ANGE;
+    static final int INT_ANGL = Enum.INT_ANGL;
+    static final int INT_ANTH = Enum.INT_ANTH;
+    static final int INT_ANTO = Enum.INT_ANTO;
+    static final int INT_AOKT = Enum.INT_AOKT;
+    static final int INT_AONE = Enum.INT_AONE;
+    static final int INT_APAC = Enum.INT_APAC;
+    static final int INT_APAE = Enum.INT_APAE;
+    static final int INT_APAH = Enum.INT_APAH;
+    static final int INT_APEC = Enum.INT_APEC;
+    static final int INT_APEX = Enum.INT_APEX;
+    static final int INT_APLE = Enum.INT_APLE;
+    static final int INT_APOL = Enum.INT_APOL;
+    static final int INT_APPA = Enum.INT_APPA;
+    static final int INT_APPL = Enum.INT_APPL;
+    static final int INT_APRI = Enum.INT_APRI;
+    static final int INT_AQCR = Enum.INT_AQCR;
+    static final int INT_AQUA = Enum.INT_AQUA;
+    static final int INT_AQUT = Enum.INT_AQUT;
+    static final int INT_ARAB = Enum.INT_ARAB;
+    static final int INT_ARCA = Enum.INT_ARCA;
+    static final int INT_ARCC = Enum.INT_ARCC;
+    static final int INT_ARCO = Enum.INT_ARCO;
+    static final int INT_ARCT = Enum.INT_ARCT;
+    static final int INT_AREC = Enum.INT_AREC;
+    static final int INT_ARGG = Enum.INT_ARGG;
+    static final int INT_ARGO = Enum.INT_ARGO;
+    static final int INT_ARGS = Enum.INT_ARGS;
+    static final int INT_ARIC = Enum.INT_ARIC;
+    static final int INT_ARIE = Enum.INT_ARIE;
+    static final int INT_ARII = Enum.INT_ARII;
+    static final int INT_ARIN = Enum.INT_ARIN;
+    static final int INT_ARIS = Enum.INT_ARIS;
+    static final int INT_ARIT = Enum.INT_ARIT;
+    static final int INT_ARLB = Enum.INT_ARLB;
+    static final int INT_ARMA = Enum.INT_ARMA;
+    static final int INT_ARMC = Enum.INT_ARMC;
+    static final int INT_ARMH = Enum.INT_ARMH;
+    static final int INT_ARMO = Enum.INT_ARMO;
+    static final int INT_ARMR = Enum.INT_ARMR;
+    static final int INT_ARMS = Enum.INT_ARMS;
+    static final int INT_ARMT = Enum.INT_ARMT;
+    static final int INT_ARND = Enum.INT_ARND;
+    static final int INT_ARNO = Enum.INT_ARNO;
+    static final int INT_ARNT = Enum.INT_ARNT;
+    static final int INT_AROM = Enum.INT_AROM;
+    static final int INT_AROS = Enum.INT_AROS;
+    static final int INT_ARPS = Enum.INT_ARPS;
+    static final int INT_ARPT = Enum.INT_ARPT;
+    static final int INT_ARRC = Enum.INT_ARRC;
+    static final int INT_ARRM = Enum.INT_ARRM;
+    static final int INT_ARRO = Enum.INT_ARRO;
+    static final int INT_ARRT = Enum.INT_ARRT;
+    static final int INT_ARRW = Enum.INT_ARRW;
+    static final int INT_ARSC = Enum.INT_ARSC;
+    static final int INT_ARSN = Enum.INT_ARSN;
+    static final int INT_ARTA = Enum.INT_ARTA;
+    static final int INT_ARTG = Enum.INT_ARTG;
+    static final int INT_ARTH = Enum.INT_ARTH;
+    static final int INT_ARTI = Enum.INT_ARTI;
+    static final int INT_ARTX = Enum.INT_ARTX;
+    static final int INT_ASA = Enum.INT_ASA;
+    static final int INT_ASBU = Enum.INT_ASBU;
+    static final int INT_ASBY = Enum.INT_ASBY;
+    static final int INT_ASHD = Enum.INT_ASHD;
+    static final int INT_ASHL = Enum.INT_ASHL;
+    static final int INT_ASHT = Enum.INT_ASHT;
+    static final int INT_ASI = Enum.INT_ASI;
+    static final int INT_ASIN = Enum.INT_ASIN;
+    static final int INT_ASM = Enum.INT_ASM;
+    static final int INT_ASMT = Enum.INT_ASMT;
+    static final int INT_ASPE = Enum.INT_ASPE;
+    static final int INT_ASPL = Enum.INT_ASPL;
+    static final int INT_ASPS = Enum.INT_ASPS;
+    static final int INT_ASPT = Enum.INT_ASPT;
+    static final int INT_ASTO = Enum.INT_ASTO;
+    static final int INT_ASTR = Enum.INT_ASTR;
+    static final int INT_ASUN = Enum.INT_ASUN;
+    static final int INT_ASVE = Enum.INT_ASVE;
+    static final int INT_ATAS = Enum.INT_ATAS;
+    static final int INT_ATCH = Enum.INT_ATCH;
+    static final int INT_ATCO = Enum.INT_ATCO;
+    static final int INT_ATEX = Enum.INT_ATEX;
+    static final int INT_ATHE = Enum.INT_ATHE;
+    static final int INT_ATK = Enum.INT_ATK;
+    static final int INT_ATLA = Enum.INT_ATLA;
+    static final int INT_ATLC = Enum.INT_ATLC;
+    static final int INT_ATLD = Enum.INT_ATLD;
+    static final int INT_ATLN = Enum.INT_ATLN;
+    static final int INT_ATLS = Enum.INT_ATLS;
+    static final int INT_ATLT = Enum.INT_ATLT;
+    static final int INT_ATOC = Enum.INT_ATOC;
+    static final int INT_ATSP = Enum.INT_ATSP;
+    static final int INT_ATTC = Enum.INT_ATTC;
+    static final int INT_ATV = Enum.INT_ATV;
+    static final int INT_ATWO = Enum.INT_ATWO;
+    static final int INT_AUBN = Enum.INT_AUBN;
+    static final int INT_AUBU = Enum.INT_AUBU;
+    static final int INT_AUDI = Enum.INT_AUDI;
+    static final int INT_AUG = Enum.INT_AUG;
+    static final int INT_AUHE = Enum.INT_AUHE;
+    static final int INT_AUKR = Enum.INT_AUKR;
+    static final int INT_AUPR = Enum.INT_AUPR;
+    static final int INT_AURA = Enum.INT_AURA;
+    static final int INT_AURO = Enum.INT_AURO;
+    static final int INT_AURR = Enum.INT_AURR;
+    static final int INT_AUST = Enum.INT_AUST;
+    static final int INT_AUTA = Enum.INT_AUTA;
+    static final int INT_AUTB = Enum.INT_AUTB;
+    static final int INT_AUTH = Enum.INT_AUTH;
+    static final int INT_AUTI = Enum.INT_AUTI;
+    static final int INT_AUTM = Enum.INT_AUTM;
+    static final int INT_AUTO = Enum.INT_AUTO;
+    static final int INT_AUTR = Enum.INT_AUTR;
+    static final int INT_AUTS = Enum.INT_AUTS;
+    static final int INT_AUTT = Enum.INT_AUTT;
+    static final int INT_AUTU = Enum.INT_AUTU;
+    static final int INT_AUWE = Enum.INT_AUWE;
+    static final int INT_AVA = Enum.INT_AVA;
+    static final int INT_AVAC = Enum.INT_AVAC;
+    static final int INT_AVAL = Enum.INT_AVAL;
+    static final int INT_AVAN = Enum.INT_AVAN;
+    static final int INT_AVAO = Enum.INT_AVAO;
+    static final int INT_AVCO = Enum.INT_AVCO;
+    static final int INT_AVEN = Enum.INT_AVEN;
+    static final int INT_AVGN = Enum.INT_AVGN;
+    static final int INT_AVIA = Enum.INT_AVIA;
+    static final int INT_AVIO = Enum.INT_AVIO;
+    static final int INT_AVTI = Enum.INT_AVTI;
+    static final int INT_AWAY = Enum.INT_AWAY;
+    static final int INT_AXLE = Enum.INT_AXLE;
+    static final int INT_AYRW = Enum.INT_AYRW;
+    static final int INT_AZAL = Enum.INT_AZAL;
+    static final int INT_AZMF = Enum.INT_AZMF;
+    static final int INT_AZTC = Enum.INT_AZTC;
+    static final int INT_AZTE = Enum.INT_AZTE;
+    static final int INT_AZTX = Enum.INT_AZTX;
+    static final int INT_BABC = Enum.INT_BABC;
+    static final int INT_BACC = Enum.INT_BACC;
+    static final int INT_BADC = Enum.INT_BADC;
+    static final int INT_BADE = Enum.INT_BADE;
+    static final int INT_BADG = Enum.INT_BADG;
+    static final int INT_BADR = Enum.INT_BADR;
+    static final int INT_BAIL = Enum.INT_BAIL;
+    static final int INT_BAIN = Enum.INT_BAIN;
+    static final int INT_BAJA = Enum.INT_BAJA;
+    static final int INT_BAKE = Enum.INT_BAKE;
+    static final int INT_BAKI = Enum.INT_BAKI;
+    static final int INT_BAKR = Enum.INT_BAKR;
+    static final int INT_BALB = Enum.INT_BALB;
+    static final int INT_BALD = Enum.INT_BALD;
+    static final int INT_BALE = Enum.INT_BALE;
+    static final int INT_BALI = Enum.INT_BALI;
+    static final int INT_BALK = Enum.INT_BALK;
+    static final int INT_BALL = Enum.INT_BALL;
+    static final int INT_BALT = Enum.INT_BALT;
+    static final int INT_BALZ = Enum.INT_BALZ;
+    static final int INT_BAMA = Enum.INT_BAMA;
+    static final int INT_BAME = Enum.INT_BAME;
+    static final int INT_BAMH = Enum.INT_BAMH;
+    static final int INT_BAND = Enum.INT_BAND;
+    static final int INT_BANH = Enum.INT_BANH;
+    static final int INT_BANK = Enum.INT_BANK;
+    static final int INT_BANM = Enum.INT_BANM;
+    static final int INT_BANN = Enum.INT_BANN;
+    static final int INT_BANT = Enum.INT_BANT;
+    static final int INT_BARA = Enum.INT_BARA;
+    static final int INT_BARB = Enum.INT_BARB;
+    static final int INT_BARC = Enum.INT_BARC;
+    static final int INT_BARE = Enum.INT_BARE;
+    static final int INT_BARH = Enum.INT_BARH;
+    static final int INT_BARI = Enum.INT_BARI;
+    static final int INT_BARK = Enum.INT_BARK;
+    static final int INT_BARL = Enum.INT_BARL;
+    static final int INT_BARN = Enum.INT_BARN;
+    static final int INT_BARO = Enum.INT_BARO;
+    static final int INT_BARR = Enum.INT_BARR;
+    static final int INT_BART = Enum.INT_BART;
+    static final int INT_BASS = Enum.INT_BASS;
+    static final int INT_BATA = Enum.INT_BATA;
+    static final int INT_BATM = Enum.INT_BATM;
+    static final int INT_BAUG = Enum.INT_BAUG;
+    static final int INT_BAY = Enum.INT_BAY;
+    static final int INT_BAYC = Enum.INT_BAYC;
+    static final int INT_BBCB = Enum.INT_BBCB;
+    static final int INT_BBCH = Enum.INT_BBCH;
+    static final int INT_BBEE = Enum.INT_BBEE;
+    static final int INT_BBTM = Enum.INT_BBTM;
+    static final int INT_BBW = Enum.INT_BBW;
+    static final int INT_BCMW = Enum.INT_BCMW;
+    static final int INT_BDFL = Enum.INT_BDFL;
+    static final int INT_BEAC = Enum.INT_BEAC;
+    static final int INT_BEAD = Enum.INT_BEAD;
+    static final int INT_BEAE = Enum.INT_BEAE;
+    static final int INT_BEAI = Enum.INT_BEAI;
+    static final int INT_BEAL = Enum.INT_BEAL;
+    static final int INT_BEAM = Enum.INT_BEAM;
+    static final int INT_BEAN = Enum.INT_BEAN;
+    static final int INT_BEAR = Enum.INT_BEAR;
+    static final int INT_BEAT = Enum.INT_BEAT;
+    static final int INT_BEAV = Enum.INT_BEAV;
+    static final int INT_BEBE = Enum.INT_BEBE;
+    static final int INT_BEBO = Enum.INT_BEBO;
+    static final int INT_BEC = Enum.INT_BEC;
+    static final int INT_BECK = Enum.INT_BECK;
+    static final int INT_BEDE = Enum.INT_BEDE;
+    static final int INT_BEDF = Enum.INT_BEDF;
+    static final int INT_BEDX = Enum.INT_BEDX;
+    static final int INT_BEEA = Enum.INT_BEEA;
+    static final int INT_BEEC = Enum.INT_BEEC;
+    static final int INT_BEEE = Enum.INT_BEEE;
+    static final int INT_BEEG = Enum.INT_BEEG;
+    static final int INT_BEEH = Enum.INT_BEEH;
+    static final int INT_BEEM = Enum.INT_BEEM;
+    static final int INT_BEET = Enum.INT_BEET;
+    static final int INT_BEJE = Enum.INT_BEJE;
+    static final int INT_BELA = Enum.INT_BELA;
+    static final int INT_BELE = Enum.INT_BELE;
+    static final int INT_BELF = Enum.INT_BELF;
+    static final int INT_BELH = Enum.INT_BELH;
+    static final int INT_BELL = Enum.INT_BELL;
+    static final int INT_BELN = Enum.INT_BELN;
+    static final int INT_BELP = Enum.INT_BELP;
+    static final int INT_BELR = Enum.INT_BELR;
+    static final int INT_BELS = Enum.INT_BELS;
+    static final int INT_BELT = Enum.INT_BELT;
+    static final int INT_BELU = Enum.INT_BELU;
+    static final int INT_BELV = Enum.INT_BELV;
+    static final int INT_BENE = Enum.INT_BENE;
+    static final int INT_BENL = Enum.INT_BENL;
+    static final int INT_BENS = Enum.INT_BENS;
+    static final int INT_BENT = Enum.INT_BENT;
+    static final int INT_BEPO = Enum.INT_BEPO;
+    static final int INT_BERE = Enum.INT_BERE;
+    static final int INT_BERG = Enum.INT_BERG;
+    static final int INT_BERH = Enum.INT_BERH;
+    static final int INT_BERK = Enum.INT_BERK;
+    static final int INT_BERM = Enum.INT_BERM;
+    static final int INT_BERO = Enum.INT_BERO;
+    static final int INT_BERR = Enum.INT_BERR;
+    static final int INT_BERT = Enum.INT_BERT;
+    static final int INT_BERV = Enum.INT_BERV;
+    static final int INT_BESA = Enum.INT_BESA;
+    static final int INT_BETA = Enum.INT_BETA;
+    static final int INT_BETE = Enum.INT_BETE;
+    static final int INT_BETH = Enum.INT_BETH;
+    static final int INT_BETT = Enum.INT_BETT;
+    static final int INT_BEVR = Enum.INT_BEVR;
+    static final int INT_BFOS = Enum.INT_BFOS;
+    static final int INT_BGDG = Enum.INT_BGDG;
+    static final int INT_BGHM = Enum.INT_BGHM;
+    static final int INT_BHNK = Enum.INT_BHNK;
+    static final int INT_BIAN = Enum.INT_BIAN;
+    static final int INT_BIBB = Enum.INT_BIBB;
+    static final int INT_BIEW = Enum.INT_BIEW;
+    static final int INT_BIGB = Enum.INT_BIGB;
+    static final int INT_BIGH = Enum.INT_BIGH;
+    static final int INT_BIGI = Enum.INT_BIGI;
+    static final int INT_BIGJ = Enum.INT_BIGJ;
+    static final int INT_BIGT = Enum.INT_BIGT;
+    static final int INT_BIGV = Enum.INT_BIGV;
+    static final int INT_BILE = Enum.INT_BILE;
+    static final int INT_BILK = Enum.INT_BILK;
+    static final int INT_BILL = Enum.INT_BILL;
+    static final int INT_BILR = Enum.INT_BILR;
+    static final int INT_BILT = Enum.INT_BILT;
+    static final int INT_BIMO = Enum.INT_BIMO;
+    static final int INT_BINK = Enum.INT_BINK;
+    static final int INT_BINS = Enum.INT_BINS;
+    static final int INT_BIOT = Enum.INT_BIOT;
+    static final int INT_BIRD = Enum.INT_BIRD;
+    static final int INT_BIRE = Enum.INT_BIRE;
+    static final int INT_BIRM = Enum.INT_BIRM;
+    static final int INT_BITT = Enum.INT_BITT;
+    static final int INT_BIVO = Enum.INT_BIVO;
+    static final int INT_BIZZ = Enum.INT_BIZZ;
+    static final int INT_BJAA = Enum.INT_BJAA;
+    static final int INT_BJCT = Enum.INT_BJCT;
+    static final int INT_BJEN = Enum.INT_BJEN;
+    static final int INT_BJMC = Enum.INT_BJMC;
+    static final int INT_BJMS = Enum.INT_BJMS;
+    static final int INT_BKDN = Enum.INT_BKDN;
+    static final int INT_BKHM = Enum.INT_BKHM;
+    static final int INT_BLAB = Enum.INT_BLAB;
+    static final int INT_BLAC = Enum.INT_BLAC;
+    static final int INT_BLAE = Enum.INT_BLAE;
+    static final int INT_BLAH = Enum.INT_BLAH;
+    static final int INT_BLAI = Enum.INT_BLAI;
+    static final int INT_BLAK = Enum.INT_BLAK;
+    static final int INT_BLAO = Enum.INT_BLAO;
+    static final int INT_BLAR = Enum.INT_BLAR;
+    static final int INT_BLAS = Enum.INT_BLAS;
+    static final int INT_BLAW = Enum.INT_BLAW;
+    static final int INT_BLAZ = Enum.INT_BLAZ;
+    static final int INT_BLDC = Enum.INT_BLDC;
+    static final int INT_BLGA = Enum.INT_BLGA;
+    static final int INT_BLIN = Enum.INT_BLIN;
+    static final int INT_BLIT = Enum.INT_BLIT;
+    static final int INT_BLIX = Enum.INT_BLIX;
+    static final int INT_BLKE = Enum.INT_BLKE;
+    static final int INT_BLLV = Enum.INT_BLLV;
+    static final int INT_BLMT = Enum.INT_BLMT;
+    static final int INT_BLOM = Enum.INT_BLOM;
+    static final int INT_BLOO = Enum.INT_BLOO;
+    static final int INT_BLRG = Enum.INT_BLRG;
+    static final int INT_BLST = Enum.INT_BLST;
+    static final int INT_BLTR = Enum.INT_BLTR;
+    static final int INT_BLUB = Enum.INT_BLUB;
+    static final int INT_BLUE = Enum.INT_BLUE;
+    static final int INT_BLUG = Enum.INT_BLUG;
+    static final int INT_BLUI = Enum.INT_BLUI;
+    static final int INT_BLUJ = Enum.INT_BLUJ;
+    static final int INT_BMBM = Enum.INT_BMBM;
+    static final int INT_BMBR = Enum.INT_BMBR;
+    static final int INT_BMC = Enum.INT_BMC;
+    static final int INT_BMMF = Enum.INT_BMMF;
+    static final int INT_BMTR = Enum.INT_BMTR;
+    static final int INT_BMW = Enum.INT_BMW;
+    static final int INT_BNDR = Enum.INT_BNDR;
+    static final int INT_BNDT = Enum.INT_BNDT;
+    static final int INT_BNHR = Enum.INT_BNHR;
+    static final int INT_BNST = Enum.INT_BNST;
+    static final int INT_BNTM = Enum.INT_BNTM;
+    static final int INT_BNZA = Enum.INT_BNZA;
+    static final int INT_BOAN = Enum.INT_BOAN;
+    static final int INT_BOAR = Enum.INT_BOAR;
+    static final int INT_BOAS = Enum.INT_BOAS;
+    static final int INT_BOAT = Enum.INT_BOAT;
+    static final int INT_BOB = Enum.INT_BOB;
+    static final int INT_BOBB = Enum.INT_BOBB;
+    static final int INT_BOBC = Enum.INT_BOBC;
+    static final int INT_BOBK = Enum.INT_BOBK;
+    static final int INT_BOBM = Enum.INT_BOBM;
+    static final int INT_BOCA = Enum.INT_BOCA;
+    static final int INT_BOCE = Enum.INT_BOCE;
+    static final int INT_BOCK = Enum.INT_BOCK;
+    static final int INT_BOCS = Enum.INT_BOCS;
+    static final int INT_BOER = Enum.INT_BOER;
+    static final int INT_BOIS = Enum.INT_BOIS;
+    static final int INT_BOLA = Enum.INT_BOLA;
+    static final int INT_BOLG = Enum.INT_BOLG;
+    static final int INT_BOMA = Enum.INT_BOMA;
+    static final int INT_BOMB = Enum.INT_BOMB;
+    static final int INT_BOMF = Enum.INT_BOMF;
+    static final int INT_BOMG = Enum.INT_BOMG;
+    static final int INT_BONA = Enum.INT_BONA;
+    static final int INT_BONC = Enum.INT_BONC;
+    static final int INT_BOND = Enum.INT_BOND;
+    static final int INT_BONE = Enum.INT_BONE;
+    static final int INT_BONI = Enum.INT_BONI;
+    static final int INT_BOON = Enum.INT_BOON;
+    static final int INT_BORC = Enum.INT_BORC;
+    static final int INT_BORF = Enum.INT_BORF;
+    static final int INT_BORG = Enum.INT_BORG;
+    static final int INT_BOSS = Enum.INT_BOSS;
+    static final int INT_BOTL = Enum.INT_BOTL;
+    static final int INT_BOUL = Enum.INT_BOUL;
+    static final int INT_BOWE = Enum.INT_BOWE;
+    static final int INT_BOWI = Enum.INT_BOWI;
+    static final int INT_BOWM = Enum.INT_BOWM;
+    static final int INT_BOWN = Enum.INT_BOWN;
+    static final int INT_BOWS = Enum.INT_BOWS;
+    static final int INT_BOXR = Enum.INT_BOXR;
+    static final int INT_BOYD = Enum.INT_BOYD;
+    static final int INT_BOYR = Enum.INT_BOYR;
+    static final int INT_BRAC = Enum.INT_BRAC;
+    static final int INT_BRAD = Enum.INT_BRAD;
+    static final int INT_BRAF = Enum.INT_BRAF;
+    static final int INT_BRAL = Enum.INT_BRAL;
+    static final int INT_BRAN = Enum.INT_BRAN;
+    static final int INT_BRAS = Enum.INT_BRAS;
+    static final int INT_BRAT = Enum.INT_BRAT;
+    static final int INT_BRAU = Enum.INT_BRAU;
+    static final int INT_BRAV = Enum.INT_BRAV;
+    static final int INT_BRAW = Enum.INT_BRAW;
+    static final int INT_BRAY = Enum.INT_BRAY;
+    static final int INT_BRCO = Enum.INT_BRCO;
+    static final int INT_BRCT = Enum.INT_BRCT;
+    static final int INT_BRCV = Enum.INT_BRCV;
+    static final int INT_BRDC = Enum.INT_BRDC;
+    static final int INT_BRDK = Enum.INT_BRDK;
+    static final int INT_BRDL = Enum.INT_BRDL;
+    static final int INT_BRDR = Enum.INT_BRDR;
+    static final int INT_BREE = Enum.INT_BREE;
+    static final int INT_BREI = Enum.INT_BREI;
+    static final int INT_BREK = Enum.INT_BREK;
+    static final int INT_BREM = Enum.INT_BREM;
+    static final int INT_BREN = Enum.INT_BREN;
+    static final int INT_BRET = Enum.INT_BRET;
+    static final int INT_BREW = Enum.INT_BREW;
+    static final int INT_BREZ = Enum.INT_BREZ;
+    static final int INT_BRGS = Enum.INT_BRGS;
+    static final int INT_BRIC = Enum.INT_BRIC;
+    static final int INT_BRID = Enum.INT_BRID;
+    static final int INT_BRIE = Enum.INT_BRIE;
+    static final int INT_BRIG = Enum.INT_BRIG;
+    static final int INT_BRIH = Enum.INT_BRIH;
+    static final int INT_BRIL = Enum.INT_BRIL;
+    static final int INT_BRIO = Enum.INT_BRIO;
+    static final int INT_BRIS = Enum.INT_BRIS;
+    static final int INT_BRIT = Enum.INT_BRIT;
+    static final int INT_BRKW = Enum.INT_BRKW;
+    static final int INT_BRLL = Enum.INT_BRLL;
+    static final int INT_BRMR = Enum.INT_BRMR;
+    static final int INT_BRND = Enum.INT_BRND;
+    static final int INT_BRNG = Enum.INT_BRNG;
+    static final int INT_BROA = Enum.INT_BROA;
+    static final int INT_BROB = Enum.INT_BROB;
+    static final int INT_BROC = Enum.INT_BROC;
+    static final int INT_BROD = Enum.INT_BROD;
+    static final int INT_BROE = Enum.INT_BROE;
+    static final int INT_BROH = Enum.INT_BROH;
+    static final int INT_BROK = Enum.INT_BROK;
+    static final int INT_BRON = Enum.INT_BRON;
+    static final int INT_BROO = Enum.INT_BROO;
+    static final int INT_BROR = Enum.INT_BROR;
+    static final int INT_BROS = Enum.INT_BROS;
+    static final int INT_BROT = Enum.INT_BROT;
+    static final int INT_BROU = Enum.INT_BROU;
+    static final int INT_BROW = Enum.INT_BROW;
+    static final int INT_BROY = Enum.INT_BROY;
+    static final int INT_BRRO = Enum.INT_BRRO;
+    static final int INT_BRSH = Enum.INT_BRSH;
+    static final int INT_BRST = Enum.INT_BRST;
+    static final int INT_BRTE = Enum.INT_BRTE;
+    static final int INT_BRTI = Enum.INT_BRTI;
+    static final int INT_BRTO = Enum.INT_BRTO;
+    static final int INT_BRTR = Enum.INT_BRTR;
+    static final int INT_BRTT = Enum.INT_BRTT;
+    static final int INT_BRUN = Enum.INT_BRUN;
+    static final int INT_BRUT = Enum.INT_BRUT;
+    static final int INT_BRUZ = Enum.INT_BRUZ;
+    static final int INT_BRWD = Enum.INT_BRWD;
+    static final int INT_BRWN = Enum.INT_BRWN;
+    static final int INT_BSA = Enum.INT_BSA;
+    static final int INT_BSB = Enum.INT_BSB;
+    static final int INT_BTEC = Enum.INT_BTEC;
+    static final int INT_BTVS = Enum.INT_BTVS;
+    static final int INT_BUCC = Enum.INT_BUCC;
+    static final int INT_BUCI = Enum.INT_BUCI;
+    static final int INT_BUCK = Enum.INT_BUCK;
+    static final int INT_BUCM = Enum.INT_BUCM;
+    static final int INT_BUCN = Enum.INT_BUCN;
+    static final int INT_BUCO = Enum.INT_BUCO;
+    static final int INT_BUCS = Enum.INT_BUCS;
+    static final int INT_BUCY = Enum.INT_BUCY;
+    static final int INT_BUDC = Enum.INT_BUDC;
+    static final int INT_BUDD = Enum.INT_BUDD;
+    static final int INT_BUDG = Enum.INT_BUDG;
+    static final int INT_BUDR = Enum.INT_BUDR;
+    static final int INT_BUDS = Enum.INT_BUDS;
+    static final int INT_BUEL = Enum.INT_BUEL;
+    static final int INT_BUFF = Enum.INT_BUFF;
+    static final int INT_BUG = Enum.INT_BUG;
+    static final int INT_BUGA = Enum.INT_BUGA;
+    static final int INT_BUHL = Enum.INT_BUHL;
+    static final int INT_BUIC = Enum.INT_BUIC;
+    static final int INT_BUIL = Enum.INT_BUIL;
+    static final int INT_BULK = Enum.INT_BULK;
+    static final int INT_BULL = Enum.INT_BULL;
+    static final int INT_BULM = Enum.INT_BULM;
+    static final int INT_BULT = Enum.INT_BULT;
+    static final int INT_BUNT = Enum.INT_BUNT;
+    static final int INT_BUNY = Enum.INT_BUNY;
+    static final int INT_BURC = Enum.INT_BURC;
+    static final int INT_BURE = Enum.INT_BURE;
+    static final int INT_BURK = Enum.INT_BURK;
+    static final int INT_BURL = Enum.INT_BURL;
+    static final int INT_BURN = Enum.INT_BURN;
+    static final int INT_BURO = Enum.INT_BURO;
+    static final int INT_BURR = Enum.INT_BURR;
+    static final int INT_BUSH = Enum.INT_BUSH;
+    static final int INT_BUSO = Enum.INT_BUSO;
+    static final int INT_BUSP = Enum.INT_BUSP;
+    static final int INT_BUTE = Enum.INT_BUTE;
+    static final int INT_BUTL = Enum.INT_BUTL;
+    static final int INT_BUTT = Enum.INT_BUTT;
+    static final int INT_BVCR = Enum.INT_BVCR;
+    static final int INT_BWAY = Enum.INT_BWAY;
+    static final int INT_BWHO = Enum.INT_BWHO;
+    static final int INT_BYER = Enum.INT_BYER;
+    static final int INT_BYMW = Enum.INT_BYMW;
+    static final int INT_BYOR = Enum.INT_BYOR;
+    static final int INT_BYRM = Enum.INT_BYRM;
+    static final int INT_BYRS = Enum.INT_BYRS;
+    static final int INT_BYSN = Enum.INT_BYSN;
+    static final int INT_BZEL = Enum.INT_BZEL;
+    static final int INT_CAAR = Enum.INT_CAAR;
+    static final int INT_CABA = Enum.INT_CABA;
+    static final int INT_CABK = Enum.INT_CABK;
+    static final int INT_CACA = Enum.INT_CACA;
+    static final int INT_CACR = Enum.INT_CACR;
+    static final int INT_CACV = Enum.INT_CACV;
+    static final int INT_CACY = Enum.INT_CACY;
+    static final int INT_CADE = Enum.INT_CADE;
+    static final int INT_CADF = Enum.INT_CADF;
+    static final int INT_CADI = Enum.INT_CADI;
+    static final int INT_CAFF = Enum.INT_CAFF;
+    static final int INT_CAGI = Enum.INT_CAGI;
+    static final int INT_CAHA = Enum.INT_CAHA;
+    static final int INT_CALC = Enum.INT_CALC;
+    static final int INT_CALD = Enum.INT_CALD;
+    static final int INT_CALF = Enum.INT_CALF;
+    static final int INT_CALH = Enum.INT_CALH;
+    static final int INT_CALI = Enum.INT_CALI;
+    static final int INT_CALK = Enum.INT_CALK;
+    static final int INT_CALL = Enum.INT_CALL;
+    static final int INT_CALM = Enum.INT_CALM;
+    static final int INT_CALN = Enum.INT_CALN;
+    static final int INT_CALO = Enum.INT_CALO;
+    static final int INT_CALS = Enum.INT_CALS;
+    static final int INT_CALT = Enum.INT_CALT;
+    static final int INT_CALU = Enum.INT_CALU;
+    static final int INT_CALW = Enum.INT_CALW;
+    static final int INT_CALY = Enum.INT_CALY;
+    static final int INT_CAMA = Enum.INT_CAMA;
+    static final int INT_CAMB = Enum.INT_CAMB;
+    static final int INT_CAMC = Enum.INT_CAMC;
+    static final int INT_CAMD = Enum.INT_CAMD;
+    static final int INT_CAME = Enum.INT_CAME;
+    static final int INT_CAMF = Enum.INT_CAMF;
+    static final int INT_CAMI = Enum.INT_CAMI;
+    static final int INT_CAML = Enum.INT_CAML;
+    static final int INT_CAMM = Enum.INT_CAMM;
+    static final int INT_CAMO = Enum.INT_CAMO;
+    static final int INT_CAMP = Enum.INT_CAMP;
+    static final int INT_CAMR = Enum.INT_CAMR;
+    static final int INT_CAMS = Enum.INT_CAMS;
+    static final int INT_CAMT = Enum.INT_CAMT;
+    static final int INT_CAMU = Enum.INT_CAMU;
+    static final int INT_CAMV = Enum.INT_CAMV;
+    static final int INT_CAMY = Enum.INT_CAMY;
+    static final int INT_CANA = Enum.INT_CANA;
+    static final int INT_CANC = Enum.INT_CANC;
+    static final int INT_CAND = Enum.INT_CAND;
+    static final int INT_CANE = Enum.INT_CANE;
+    static final int INT_CANG = Enum.INT_CANG;
+    static final int INT_CANN = Enum.INT_CANN;
+    static final int INT_CANO = Enum.INT_CANO;
+    static final int INT_CANS = Enum.INT_CANS;
+    static final int INT_CANT = Enum.INT_CANT;
+    static final int INT_CAP = Enum.INT_CAP;
+    static final int INT_CAPA = Enum.INT_CAPA;
+    static final int INT_CAPC = Enum.INT_CAPC;
+    static final int INT_CAPE = Enum.INT_CAPE;
+    static final int INT_CAPH = Enum.INT_CAPH;
+    static final int INT_CAPI = Enum.INT_CAPI;
+    static final int INT_CAPL = Enum.INT_CAPL;
+    static final int INT_CAPM = Enum.INT_CAPM;
+    static final int INT_CAPR = Enum.INT_CAPR;
+    static final int INT_CAPT = Enum.INT_CAPT;
+    static final int INT_CARA = Enum.INT_CARA;
+    static final int INT_CARB = Enum.INT_CARB;
+    static final int INT_CARC = Enum.INT_CARC;
+    static final int INT_CARD = Enum.INT_CARD;
+    static final int INT_CARE = Enum.INT_CARE;
+    static final int INT_CARF = Enum.INT_CARF;
+    static final int INT_CARG = Enum.INT_CARG;
+    static final int INT_CARH = Enum.INT_CARH;
+    static final int INT_CARI = Enum.INT_CARI;
+    static final int INT_CARK = Enum.INT_CARK;
+    static final int INT_CARL = Enum.INT_CARL;
+    static final int INT_CARM = Enum.INT_CARM;
+    static final int INT_CARN = Enum.INT_CARN;
+    static final int INT_CARO = Enum.INT_CARO;
+    static final int INT_CARP = Enum.INT_CARP;
+    static final int INT_CARR = Enum.INT_CARR;
+    static final int INT_CARS = Enum.INT_CARS;
+    static final int INT_CART = Enum.INT_CART;
+    static final int INT_CARW = Enum.INT_CARW;
+    static final int INT_CARY = Enum.INT_CARY;
+    static final int INT_CASA = Enum.INT_CASA;
+    static final int INT_CASC = Enum.INT_CASC;
+    static final int INT_CASE = Enum.INT_CASE;
+    static final int INT_CASH = Enum.INT_CASH;
+    static final int INT_CASL = Enum.INT_CASL;
+    static final int INT_CASR = Enum.INT_CASR;
+    static final int INT_CAST = Enum.INT_CAST;
+    static final int INT_CAT = Enum.INT_CAT;
+    static final int INT_CATA = Enum.INT_CATA;
+    static final int INT_CATI = Enum.INT_CATI;
+    static final int INT_CATL = Enum.INT_CATL;
+    static final int INT_CATM = Enum.INT_CATM;
+    static final int INT_CATO = Enum.INT_CATO;
+    static final int INT_CAUL = Enum.INT_CAUL;
+    static final int INT_CAVA = Enum.INT_CAVA;
+    static final int INT_CAVC = Enum.INT_CAVC;
+    static final int INT_CAVE = Enum.INT_CAVE;
+    static final int INT_CAVL = Enum.INT_CAVL;
+    static final int INT_CBCM = Enum.INT_CBCM;
+    static final int INT_CBMA = Enum.INT_CBMA;
+    static final int INT_CBRA = Enum.INT_CBRA;
+    static final int INT_CBRO = Enum.INT_CBRO;
+    static final int INT_CBTL = Enum.INT_CBTL;
+    static final int INT_CBUT = Enum.INT_CBUT;
+    static final int INT_CCC = Enum.INT_CCC;
+    static final int INT_CCCY = Enum.INT_CCCY;
+    static final int INT_CCDI = Enum.INT_CCDI;
+    static final int INT_CCMF = Enum.INT_CCMF;
+    static final int INT_CCMH = Enum.INT_CCMH;
+    static final int INT_CCTI = Enum.INT_CCTI;
+    static final int INT_CEEZ = Enum.INT_CEEZ;
+    static final int INT_CEIQ = Enum.INT_CEIQ;
+    static final int INT_CENA = Enum.INT_CENA;
+    static final int INT_CENI = Enum.INT_CENI;
+    static final int INT_CENR = Enum.INT_CENR;
+    static final int INT_CENT = Enum.INT_CENT;
+    static final int INT_CENU = Enum.INT_CENU;
+    static final int INT_CENY = Enum.INT_CENY;
+    static final int INT_CERT = Enum.INT_CERT;
+    static final int INT_CEVA = Enum.INT_CEVA;
+    static final int INT_CEZE = Enum.INT_CEZE;
+    static final int INT_CFBT = Enum.INT_CFBT;
+    static final int INT_CFCH = Enum.INT_CFCH;
+    static final int INT_CGMT = Enum.INT_CGMT;
+    static final int INT_CGXP = Enum.INT_CGXP;
+    static final int INT_CHAC = Enum.INT_CHAC;
+    static final int INT_CHAE = Enum.INT_CHAE;
+    static final int INT_CHAG = Enum.INT_CHAG;
+    static final int INT_CHAH = Enum.INT_CHAH;
+    static final int INT_CHAI = Enum.INT_CHAI;
+    static final int INT_CHAL = Enum.INT_CHAL;
+    static final int INT_CHAM = Enum.INT_CHAM;
+    static final int INT_CHAP = Enum.INT_CHAP;
+    static final int INT_CHAR = Enum.INT_CHAR;
+    static final int INT_CHAT = Enum.INT_CHAT;
+    static final int INT_CHAU = Enum.INT_CHAU;
+    static final int INT_CHCI = Enum.INT_CHCI;
+    static final int INT_CHCO = Enum.INT_CHCO;
+    static final int INT_CHEC = Enum.INT_CHEC;
+    static final int INT_CHEE = Enum.INT_CHEE;
+    static final int INT_CHEM = Enum.INT_CHEM;
+    static final int INT_CHEN = Enum.INT_CHEN;
+    static final int INT_CHEO = Enum.INT_CHEO;
+    static final int INT_CHEP = Enum.INT_CHEP;
+    static final int INT_CHER = Enum.INT_CHER;
+    static final int INT_CHES = Enum.INT_CHES;
+    static final int INT_CHET = Enum.INT_CHET;
+    static final int INT_CHEV = Enum.INT_CHEV;
+    static final int INT_CHEX = Enum.INT_CHEX;
+    static final int INT_CHFB = Enum.INT_CHFB;
+    static final int INT_CHIA = Enum.INT_CHIA;
+    static final int INT_CHIB = Enum.INT_CHIB;
+    static final int INT_CHIC = Enum.INT_CHIC;
+    static final int INT_CHIE = Enum.INT_CHIE;
+    static final int INT_CHII = Enum.INT_CHII;
+    static final int INT_CHIL = Enum.INT_CHIL;
+    static final int INT_CHIM = Enum.INT_CHIM;
+    static final int INT_CHIN = Enum.INT_CHIN;
+    static final int INT_CHIP = Enum.INT_CHIP;
+    static final int INT_CHIS = Enum.INT_CHIS;
+    static final int INT_CHKE = Enum.INT_CHKE;
+    static final int INT_CHKG = Enum.INT_CHKG;
+    static final int INT_CHLG = Enum.INT_CHLG;
+    static final int INT_CHLY = Enum.INT_CHLY;
+    static final int INT_CHMC = Enum.INT_CHMC;
+    static final int INT_CHMP = Enum.INT_CHMP;
+    static final int INT_CHNO = Enum.INT_CHNO;
+    static final int INT_CHOC = Enum.INT_CHOC;
+    static final int INT_CHPL = Enum.INT_CHPL;
+    static final int INT_CHPM = Enum.INT_CHPM;
+    static final int INT_CHPN = Enum.INT_CHPN;
+    static final int INT_CHPR = Enum.INT_CHPR;
+    static final int INT_CHPT = Enum.INT_CHPT;
+    static final int INT_CHRI = Enum.INT_CHRI;
+    static final int INT_CHRO = Enum.INT_CHRO;
+    static final int INT_CHRS = Enum.INT_CHRS;
+    static final int INT_CHRV = Enum.INT_CHRV;
+    static final int INT_CHRY = Enum.INT_CHRY;
+    static final int INT_CHTH = Enum.INT_CHTH;
+    static final int INT_CHTM = Enum.INT_CHTM;
+    static final int INT_CHUC = Enum.INT_CHUC;
+    static final int INT_CHUK = Enum.INT_CHUK;
+    static final int INT_CHVL = Enum.INT_CHVL;
+    static final int INT_CHYI = Enum.INT_CHYI;
+    static final int INT_CICC = Enum.INT_CICC;
+    static final int INT_CIMA = Enum.INT_CIMA;
+    static final int INT_CIMC = Enum.INT_CIMC;
+    static final int INT_CIMR = Enum.INT_CIMR;
+    static final int INT_CIRC = Enum.INT_CIRC;
+    static final int INT_CIRD = Enum.INT_CIRD;
+    static final int INT_CIRH = Enum.INT_CIRH;
+    static final int INT_CIRK = Enum.INT_CIRK;
+    static final int INT_CIRM = Enum.INT_CIRM;
+    static final int INT_CIRV = Enum.INT_CIRV;
+    static final int INT_CISI = Enum.INT_CISI;
+    static final int INT_CITA = Enum.INT_CITA;
+    static final int INT_CITI = Enum.INT_CITI;
+    static final int INT_CITR = Enum.INT_CITR;
+    static final int INT_CITY = Enum.INT_CITY;
+    static final int INT_CIWE = Enum.INT_CIWE;
+    static final int INT_CJGC = Enum.INT_CJGC;
+    static final int INT_CLAA = Enum.INT_CLAA;
+    static final int INT_CLAB = Enum.INT_CLAB;
+    static final int INT_CLAC = Enum.INT_CLAC;
+    static final int INT_CLAI = Enum.INT_CLAI;
+    static final int INT_CLAM = Enum.INT_CLAM;
+    static final int INT_CLAN = Enum.INT_CLAN;
+    static final int INT_CLAR = Enum.INT_CLAR;
+    static final int INT_CLAS = Enum.INT_CLAS;
+    static final int INT_CLAT = Enum.INT_CLAT;
+    static final int INT_CLAX = Enum.INT_CLAX;
+    static final int INT_CLAY = Enum.INT_CLAY;
+    static final int INT_CLAZ = Enum.INT_CLAZ;
+    static final int INT_CLBR = Enum.INT_CLBR;
+    static final int INT_CLCO = Enum.INT_CLCO;
+    static final int INT_CLEA = Enum.INT_CLEA;
+    static final int INT_CLEG = Enum.INT_CLEG;
+    static final int INT_CLEM = Enum.INT_CLEM;
+    static final int INT_CLEN = Enum.INT_CLEN;
+    static final int INT_CLEV = Enum.INT_CLEV;
+    static final int INT_CLIF = Enum.INT_CLIF;
+    static final int INT_CLIH = Enum.INT_CLIH;
+    static final int INT_CLIN = Enum.INT_CLIN;
+    static final int INT_CLIP = Enum.INT_CLIP;
+    static final int INT_CLIT = Enum.INT_CLIT;
+    static final int INT_CLMB = Enum.INT_CLMB;
+    static final int INT_CLMC = Enum.INT_CLMC;
+    static final int INT_CLMN = Enum.INT_CLMN;
+    static final int INT_CLON = Enum.INT_CLON;
+    static final int INT_CLOU = Enum.INT_CLOU;
+    static final int INT_CLSS = Enum.INT_CLSS;
+    static final int INT_CLST = Enum.INT_CLST;
+    static final int INT_CLUA = Enum.INT_CLUA;
+    static final int INT_CLUM = Enum.INT_CLUM;
+    static final int INT_CLVA = Enum.INT_CLVA;
+    static final int INT_CLVR = Enum.INT_CLVR;
+    static final int INT_CLWX = Enum.INT_CLWX;
+    static final int INT_CLYP = Enum.INT_CLYP;
+    static final int INT_CMAC = Enum.INT_CMAC;
+    static final int INT_CMBL = Enum.INT_CMBL;
+    static final int INT_CMCC = Enum.INT_CMCC;
+    static final int INT_CMCI = Enum.INT_CMCI;
+    static final int INT_CMCO = Enum.INT_CMCO;
+    static final int INT_CMCW = Enum.INT_CMCW;
+    static final int INT_CMEO = Enum.INT_CMEO;
+    static final int INT_CMFB = Enum.INT_CMFB;
+    static final int INT_CMIC = Enum.INT_CMIC;
+    static final int INT_CMIL = Enum.INT_CMIL;
+    static final int INT_CMMS = Enum.INT_CMMS;
+    static final int INT_CMOR = Enum.INT_CMOR;
+    static final int INT_CMPF = Enum.INT_CMPF;
+    static final int INT_CMPG = Enum.INT_CMPG;
+    static final int INT_CMPS = Enum.INT_CMPS;
+    static final int INT_CMPT = Enum.INT_CMPT;
+    static final int INT_CMSU = Enum.INT_CMSU;
+    static final int INT_CMWC = Enum.INT_CMWC;
+    static final int INT_CNLS = Enum.INT_CNLS;
+    static final int INT_CNMI = Enum.INT_CNMI;
+    static final int INT_CNRD = Enum.INT_CNRD;
+    static final int INT_CNRY = Enum.INT_CNRY;
+    static final int INT_CNST = Enum.INT_CNST;
+    static final int INT_CNTL = Enum.INT_CNTL;
+    static final int INT_CNTR = Enum.INT_CNTR;
+    static final int INT_CNWD = Enum.INT_CNWD;
+    static final int INT_COAC = Enum.INT_COAC;
+    static final int INT_COAH = Enum.INT_COAH;
+    static final int INT_COAI = Enum.INT_COAI;
+    static final int INT_COAM = Enum.INT_COAM;
+    static final int INT_COAS = Enum.INT_COAS;
+    static final int INT_COBM = Enum.INT_COBM;
+    static final int INT_COBR = Enum.INT_COBR;
+    static final int INT_COBU = Enum.INT_COBU;
+    static final int INT_COCF = Enum.INT_COCF;
+    static final int INT_COCH = Enum.INT_COCH;
+    static final int INT_COCL = Enum.INT_COCL;
+    static final int INT_COCO = Enum.INT_COCO;
+    static final int INT_COCP = Enum.INT_COCP;
+    static final int INT_CODY = Enum.INT_CODY;
+    static final int INT_COEQ = Enum.INT_COEQ;
+    static final int INT_COLB = Enum.INT_COLB;
+    static final int INT_COLE = Enum.INT_COLE;
+    static final int INT_COLF = Enum.INT_COLF;
+    static final int INT_COLG = Enum.INT_COLG;
+    static final int INT_COLL = Enum.INT_COLL;
+    static final int INT_COLM = Enum.INT_COLM;
+    static final int INT_COLO = Enum.INT_COLO;
+    static final int INT_COLP = Enum.INT_COLP;
+    static final int INT_COLS = Enum.INT_COLS;
+    static final int INT_COLT = Enum.INT_COLT;
+    static final int INT_COLU = Enum.INT_COLU;
+    static final int INT_COMA = Enum.INT_COMA;
+    static final int INT_COMC = Enum.INT_COMC;
+    static final int INT_COMD = Enum.INT_COMD;
+    static final int INT_COME = Enum.INT_COME;
+    static final int INT_COMI = Enum.INT_COMI;
+    static final int INT_COML = Enum.INT_COML;
+    static final int INT_COMM = Enum.INT_COMM;
+    static final int INT_COMN = Enum.INT_COMN;
+    static final int INT_COMO = Enum.INT_COMO;
+    static final int INT_COMP = Enum.INT_COMP;
+    static final int INT_COMR = Enum.INT_COMR;
+    static final int INT_COMT = Enum.INT_COMT;
+    static final int INT_COMU = Enum.INT_COMU;
+    static final int INT_COMV = Enum.INT_COMV;
+    static final int INT_COMY = Enum.INT_COMY;
+    static final int INT_CONC = Enum.INT_CONC;
+    static final int INT_COND = Enum.INT_COND;
+    static final int INT_CONE = Enum.INT_CONE;
+    static final int INT_CONF = Enum.INT_CONF;
+    static final int INT_CONG = Enum.INT_CONG;
+    static final int INT_CONH = Enum.INT_CONH;
+    static final int INT_CONI = Enum.INT_CONI;
+    static final int INT_CONL = Enum.INT_CONL;
+    static final int INT_CONM = Enum.INT_CONM;
+    static final int INT_CONN = Enum.INT_CONN;
+    static final int INT_CONO = Enum.INT_CONO;
+    static final int INT_CONP = Enum.INT_CONP;
+    static final int INT_CONR = Enum.INT_CONR;
+    static final int INT_CONS = Enum.INT_CONS;
+    static final int INT_CONT = Enum.INT_CONT;
+    static final int INT_CONU = Enum.INT_CONU;
+    static final int INT_CONV = Enum.INT_CONV;
+    static final int INT_CONW = Enum.INT_CONW;
+    static final int INT_CONX = Enum.INT_CONX;
+    static final int INT_CONY = Enum.INT_CONY;
+    static final int INT_CONZ = Enum.INT_CONZ;
+    static final int INT_COOE = Enum.INT_COOE;
+    static final int INT_COOK = Enum.INT_COOK;
+    static final int INT_COON = Enum.INT_COON;
+    static final int INT_COOP = Enum.INT_COOP;
+    static final int INT_COOS = Enum.INT_COOS;
+    static final int INT_COPA = Enum.INT_COPA;
+    static final int INT_COPC = Enum.INT_COPC;
+    static final int INT_COPP = Enum.INT_COPP;
+    static final int INT_CORB = Enum.INT_CORB;
+    static final int INT_CORD = Enum.INT_CORD;
+    static final int INT_CORG = Enum.INT_CORG;
+    static final int INT_CORN = Enum.INT_CORN;
+    static final int INT_CORO = Enum.INT_CORO;
+    static final int INT_CORR = Enum.INT_CORR;
+    static final int INT_CORS = Enum.INT_CORS;
+    static final int INT_CORT = Enum.INT_CORT;
+    static final int INT_CORV = Enum.INT_CORV;
+    static final int INT_CORY = Enum.INT_CORY;
+    static final int INT_COSM = Enum.INT_COSM;
+    static final int INT_COSU = Enum.INT_COSU;
+    static final int INT_COT = Enum.INT_COT;
+    static final int INT_COTC = Enum.INT_COTC;
+    static final int INT_COTN = Enum.INT_COTN;
+    static final int INT_COTT = Enum.INT_COTT;
+    static final int INT_COTZ = Enum.INT_COTZ;
+    static final int INT_COUA = Enum.INT_COUA;
+    static final int INT_COUB = Enum.INT_COUB;
+    static final int INT_COUI = Enum.INT_COUI;
+    static final int INT_COUN = Enum.INT_COUN;
+    static final int INT_COUR = Enum.INT_COUR;
+    static final int INT_COVE = Enum.INT_COVE;
+    static final int INT_COWM = Enum.INT_COWM;
+    static final int INT_COWY = Enum.INT_COWY;
+    static final int INT_COXS = Enum.INT_COXS;
+    static final int INT_COYN = Enum.INT_COYN;
+    static final int INT_COYO = Enum.INT_COYO;
+    static final int INT_COZA = Enum.INT_COZA;
+    static final int INT_CPNK = Enum.INT_CPNK;
+    static final int INT_CPPR = Enum.INT_CPPR;
+    static final int INT_CPTC = Enum.INT_CPTC;
+    static final int INT_CPTN = Enum.INT_CPTN;
+    static final int INT_CPTV = Enum.INT_CPTV;
+    static final int INT_CRAF = Enum.INT_CRAF;
+    static final int INT_CRAM = Enum.INT_CRAM;
+    static final int INT_CRAN = Enum.INT_CRAN;
+    static final int INT_CRAW = Enum.INT_CRAW;
+    static final int INT_CRCF = Enum.INT_CRCF;
+    static final int INT_CRCN = Enum.INT_CRCN;
+    static final int INT_CRCO = Enum.INT_CRCO;
+    static final int INT_CREE = Enum.INT_CREE;
+    static final int INT_CREL = Enum.INT_CREL;
+    static final int INT_CREO = Enum.INT_CREO;
+    static final int INT_CREQ = Enum.INT_CREQ;
+    static final int INT_CRET = Enum.INT_CRET;
+    static final int INT_CREX = Enum.INT_CREX;
+    static final int INT_CRFI = Enum.INT_CRFI;
+    static final int INT_CRFT = Enum.INT_CRFT;
+    static final int INT_CRGK = Enum.INT_CRGK;
+    static final int INT_CRGO = Enum.INT_CRGO;
+    static final int INT_CRGP = Enum.INT_CRGP;
+    static final int INT_CRGR = Enum.INT_CRGR;
+    static final int INT_CRI = Enum.INT_CRI;
+    static final int INT_CRIC = Enum.INT_CRIC;
+    static final int INT_CRIM = Enum.INT_CRIM;
+    static final int INT_CRIT = Enum.INT_CRIT;
+    static final int INT_CRKG = Enum.INT_CRKG;
+    static final int INT_CRLY = Enum.INT_CRLY;
+    static final int INT_CRMT = Enum.INT_CRMT;
+    static final int INT_CRNP = Enum.INT_CRNP;
+    static final int INT_CROE = Enum.INT_CROE;
+    static final int INT_CROF = Enum.INT_CROF;
+    static final int INT_CROH = Enum.INT_CROH;
+    static final int INT_CROI = Enum.INT_CROI;
+    static final int INT_CRON = Enum.INT_CRON;
+    static final int INT_CROR = Enum.INT_CROR;
+    static final int INT_CROS = Enum.INT_CROS;
+    static final int INT_CROT = Enum.INT_CROT;
+    static final int INT_CROW = Enum.INT_CROW;
+    static final int INT_CRPT = Enum.INT_CRPT;
+    static final int INT_CRRN = Enum.INT_CRRN;
+    static final int INT_CRST = Enum.INT_CRST;
+    static final int INT_CRUI = Enum.INT_CRUI;
+    static final int INT_CRUM = Enum.INT_CRUM;
+    static final int INT_CRVM = Enum.INT_CRVM;
+    static final int INT_CRWE = Enum.INT_CRWE;
+    static final int INT_CRYS = Enum.INT_CRYS;
+    static final int INT_CSHM = Enum.INT_CSHM;
+    static final int INT_CSMC = Enum.INT_CSMC;
+    static final int INT_CSMM = Enum.INT_CSMM;
+    static final int INT_CSTL = Enum.INT_CSTL;
+    static final int INT_CSTM = Enum.INT_CSTM;
+    static final int INT_CSTW = Enum.INT_CSTW;
+    static final int INT_CTEC = Enum.INT_CTEC;
+    static final int INT_CTRC = Enum.INT_CTRC;
+    static final int INT_CTRI = Enum.INT_CTRI;
+    static final int INT_CTSI = Enum.INT_CTSI;
+    static final int INT_CTTM = Enum.INT_CTTM;
+    static final int INT_CUAP = Enum.INT_CUAP;
+    static final int INT_CUAS = Enum.INT_CUAS;
+    static final int INT_CUBC = Enum.INT_CUBC;
+    static final int INT_CUBS = Enum.INT_CUBS;
+    static final int INT_CUKE = Enum.INT_CUKE;
+    static final int INT_CUKH = Enum.INT_CUKH;
+    static final int INT_CULL = Enum.INT_CULL;
+    static final int INT_CULN = Enum.INT_CULN;
+    static final int INT_CULP = Enum.INT_CULP;
+    static final int INT_CUMB = Enum.INT_CUMB;
+    static final int INT_CUNN = Enum.INT_CUNN;
+    static final int INT_CURB = Enum.INT_CURB;
+    static final int INT_CURR = Enum.INT_CURR;
+    static final int INT_CURT = Enum.INT_CURT;
+    static final int INT_CUSA = Enum.INT_CUSA;
+    static final int INT_CUSB = Enum.INT_CUSB;
+    static final int INT_CUSC = Enum.INT_CUSC;
+    static final int INT_CUSE = Enum.INT_CUSE;
+    static final int INT_CUSF = Enum.INT_CUSF;
+    static final int INT_CUSH = Enum.INT_CUSH;
+    static final int INT_CUSI = Enum.INT_CUSI;
+    static final int INT_CUSL = Enum.INT_CUSL;
+    static final int INT_CUSM = Enum.INT_CUSM;
+    static final int INT_CUSO = Enum.INT_CUSO;
+    static final int INT_CUST = Enum.INT_CUST;
+    static final int INT_CUTU = Enum.INT_CUTU;
+    static final int INT_CUYL = Enum.INT_CUYL;
+    static final int INT_CVLO = Enum.INT_CVLO;
+    static final int INT_CVWE = Enum.INT_CVWE;
+    static final int INT_CWCF = Enum.INT_CWCF;
+    static final int INT_CWPC = Enum.INT_CWPC;
+    static final int INT_CWTR = Enum.INT_CWTR;
+    static final int INT_CYCK = Enum.INT_CYCK;
+    static final int INT_CYCL = Enum.INT_CYCL;
+    static final int INT_CYSC = Enum.INT_CYSC;
+    static final int INT_CZ = Enum.INT_CZ;
+    static final int INT_DABR = Enum.INT_DABR;
+    static final int INT_DACO = Enum.INT_DACO;
+    static final int INT_DAEW = Enum.INT_DAEW;
+    static final int INT_DAF = Enum.INT_DAF;
+    static final int INT_DAFF = Enum.INT_DAFF;
+    static final int INT_DAIH = Enum.INT_DAIH;
+    static final int INT_DAIM = Enum.INT_DAIM;
+    static final int INT_DAIN = Enum.INT_DAIN;
+    static final int INT_DAIR = Enum.INT_DAIR;
+    static final int INT_DAKO = Enum.INT_DAKO;
+    static final int INT_DALE = Enum.INT_DALE;
+    static final int INT_DALI = Enum.INT_DALI;
+    static final int INT_DALT = Enum.INT_DALT;
+    static final int INT_DALW = Enum.INT_DALW;
+    static final int INT_DAMO = Enum.INT_DAMO;
+    static final int INT_DANA = Enum.INT_DANA;
+    static final int INT_DANB = Enum.INT_DANB;
+    static final int INT_DAND = Enum.INT_DAND;
+    static final int INT_DANT = Enum.INT_DANT;
+    static final int INT_DANU = Enum.INT_DANU;
+    static final int INT_DANZ = Enum.INT_DANZ;
+    static final int INT_DARB = Enum.INT_DARB;
+    static final int INT_DARC = Enum.INT_DARC;
+    static final int INT_DARF = Enum.INT_DARF;
+    static final int INT_DARG = Enum.INT_DARG;
+    static final int INT_DART = Enum.INT_DART;
+    static final int INT_DARV = Enum.INT_DARV;
+    static final int INT_DARW = Enum.INT_DARW;
+    static final int INT_DATO = Enum.INT_DATO;
+    static final int INT_DATR = Enum.INT_DATR;
+    static final int INT_DATS = Enum.INT_DATS;
+    static final int INT_DAUP = Enum.INT_DAUP;
+    static final int INT_DAVC = Enum.INT_DAVC;
+    static final int INT_DAVD = Enum.INT_DAVD;
+    static final int INT_DAVE = Enum.INT_DAVE;
+    static final int INT_DAVI = Enum.INT_DAVI;
+    static final int INT_DAVN = Enum.INT_DAVN;
+    static final int INT_DAVO = Enum.INT_DAVO;
+    static final int INT_DAVY = Enum.INT_DAVY;
+    static final int INT_DAWE = Enum.INT_DAWE;
+    static final int INT_DAWS = Enum.INT_DAWS;
+    static final int INT_DAYB = Enum.INT_DAYB;
+    static final int INT_DAYO = Enum.INT_DAYO;
+    static final int INT_DAYS = Enum.INT_DAYS;
+    static final int INT_DAYT = Enum.INT_DAYT;
+    static final int INT_DAZN = Enum.INT_DAZN;
+    static final int INT_DB = Enum.INT_DB;
+    static final int INT_DBDL = Enum.INT_DBDL;
+    static final int INT_DCCS = Enum.INT_DCCS;
+    static final int INT_DCNT = Enum.INT_DCNT;
+    static final int INT_DCTR = Enum.INT_DCTR;
+    static final int INT_DD = Enum.INT_DD;
+    static final int INT_DDFB = Enum.INT_DDFB;
+    static final int INT_DDTI = Enum.INT_DDTI;
+    static final int INT_DEAL = Enum.INT_DEAL;
+    static final int INT_DEAN = Enum.INT_DEAN;
+    static final int INT_DEBO = Enum.INT_DEBO;
+    static final int INT_DECA = Enum.INT_DECA;
+    static final int INT_DECO = Enum.INT_DECO;
+    static final int INT_DEEP = Enum.INT_DEEP;
+    static final int INT_DEER = Enum.INT_DEER;
+    static final int INT_DEGE = Enum.INT_DEGE;
+    static final int INT_DEGL = Enum.INT_DEGL;
+    static final int INT_DEIC = Enum.INT_DEIC;
+    static final int INT_DEKC = Enum.INT_DEKC;
+    static final int INT_DELA = Enum.INT_DELA;
+    static final int INT_DELH = Enum.INT_DELH;
+    static final int INT_DELK = Enum.INT_DELK;
+    static final int INT_DELL = Enum.INT_DELL;
+    static final int INT_DELM = Enum.INT_DELM;
+    static final int INT_DELN = Enum.INT_DELN;
+    static final int INT_DELO = Enum.INT_DELO;
+    static final int INT_DELP = Enum.INT_DELP;
+    static final int INT_DELR = Enum.INT_DELR;
+    static final int INT_DELS = Enum.INT_DELS;
+    static final int INT_DELT = Enum.INT_DELT;
+    static final int INT_DELU = Enum.INT_DELU;
+    static final int INT_DELX = Enum.INT_DELX;
+    static final int INT_DEMC = Enum.INT_DEMC;
+    static final int INT_DEMM = Enum.INT_DEMM;
+    static final int INT_DEMP = Enum.INT_DEMP;
+    static final int INT_DEMU = Enum.INT_DEMU;
+    static final int INT_DENC = Enum.INT_DENC;
+    static final int INT_DENE = Enum.INT_DENE;
+    static final int INT_DENN = Enum.INT_DENN;
+    static final int INT_DENZ = Enum.INT_DENZ;
+    static final int INT_DERB = Enum.INT_DERB;
+    static final int INT_DERE = Enum.INT_DERE;
+    static final int INT_DERH = Enum.INT_DERH;
+    static final int INT_DESA = Enum.INT_DESA;
+    static final int INT_DESG = Enum.INT_DESG;
+    static final int INT_DESI = Enum.INT_DESI;
+    static final int INT_DESO = Enum.INT_DESO;
+    static final int INT_DESP = Enum.INT_DESP;
+    static final int INT_DEST = Enum.INT_DEST;
+    static final int INT_DETE = Enum.INT_DETE;
+    static final int INT_DETH = Enum.INT_DETH;
+    static final int INT_DETI = Enum.INT_DETI;
+    static final int INT_DETO = Enum.INT_DETO;
+    static final int INT_DEUT = Enum.INT_DEUT;
+    static final int INT_DEVI = Enum.INT_DEVI;
+    static final int INT_DEVL = Enum.INT_DEVL;
+    static final int INT_DEVN = Enum.INT_DEVN;
+    static final int INT_DEWE = Enum.INT_DEWE;
+    static final int INT_DEWL = Enum.INT_DEWL;
+    static final int INT_DIAB = Enum.INT_DIAB;
+    static final int INT_DIAC = Enum.INT_DIAC;
+    static final int INT_DIAD = Enum.INT_DIAD;
+    static final int INT_DIAG = Enum.INT_DIAG;
+    static final int INT_DIAM = Enum.INT_DIAM;
+    static final int INT_DIAO = Enum.INT_DIAO;
+    static final int INT_DIAR = Enum.INT_DIAR;
+    static final int INT_DIAS = Enum.INT_DIAS;
+    static final int INT_DIAT = Enum.INT_DIAT;
+    static final int INT_DICH = Enum.INT_DICH;
+    static final int INT_DICK = Enum.INT_DICK;
+    static final int INT_DICO = Enum.INT_DICO;
+    static final int INT_DIDI = Enum.INT_DIDI;
+    static final int INT_DIGM = Enum.INT_DIGM;
+    static final int INT_DILL = Enum.INT_DILL;
+    static final int INT_DILM = Enum.INT_DILM;
+    static final int INT_DILO = Enum.INT_DILO;
+    static final int INT_DILY = Enum.INT_DILY;
+    static final int INT_DINA = Enum.INT_DINA;
+    static final int INT_DINL = Enum.INT_DINL;
+    static final int INT_DIPL = Enum.INT_DIPL;
+    static final int INT_DISC = Enum.INT_DISC;
+    static final int INT_DITC = Enum.INT_DITC;
+    static final int INT_DITE = Enum.INT_DITE;
+    static final int INT_DITR = Enum.INT_DITR;
+    static final int INT_DIVA = Enum.INT_DIVA;
+    static final int INT_DIVC = Enum.INT_DIVC;
+    static final int INT_DIVE = Enum.INT_DIVE;
+    static final int INT_DIVO = Enum.INT_DIVO;
+    static final int INT_DIXE = Enum.INT_DIXE;
+    static final int INT_DIXI = Enum.INT_DIXI;
+    static final int INT_DIXO = Enum.INT_DIXO;
+    static final int INT_DKR = Enum.INT_DKR;
+    static final int INT_DKW = Enum.INT_DKW;
+    static final int INT_DLHY = Enum.INT_DLHY;
+    static final int INT_DLPE = Enum.INT_DLPE;
+    static final int INT_DLPH = Enum.INT_DLPH;
+    static final int INT_DM = Enum.INT_DM;
+    static final int INT_DMHC = Enum.INT_DMHC;
+    static final int INT_DMI = Enum.INT_DMI;
+    static final int INT_DMP = Enum.INT_DMP;
+    static final int INT_DMVE = Enum.INT_DMVE;
+    static final int INT_DODD = Enum.INT_DODD;
+    static final int INT_DODE = Enum.INT_DODE;
+    static final int INT_DODG = Enum.INT_DODG;
+    static final int INT_DOEP = Enum.INT_DOEP;
+    static final int INT_DOLA = Enum.INT_DOLA;
+    static final int INT_DOLI = Enum.INT_DOLI;
+    static final int INT_DOMI = Enum.INT_DOMI;
+    static final int INT_DOMO = Enum.INT_DOMO;
+    static final int INT_DONA = Enum.INT_DONA;
+    static final int INT_DONG = Enum.INT_DONG;
+    static final int INT_DONH = Enum.INT_DONH;
+    static final int INT_DONL = Enum.INT_DONL;
+    static final int INT_DONM = Enum.INT_DONM;
+    static final int INT_DONS = Enum.INT_DONS;
+    static final int INT_DONU = Enum.INT_DONU;
+    static final int INT_DOO = Enum.INT_DOO;
+    static final int INT_DOOL = Enum.INT_DOOL;
+    static final int INT_DOON = Enum.INT_DOON;
+    static final int INT_DORI = Enum.INT_DORI;
+    static final int INT_DORS = Enum.INT_DORS;
+    static final int INT_DORT = Enum.INT_DORT;
+    static final int INT_DOT = Enum.INT_DOT;
+    static final int INT_DOUB = Enum.INT_DOUB;
+    static final int INT_DOUD = Enum.INT_DOUD;
+    static final int INT_DOUE = Enum.INT_DOUE;
+    static final int INT_DOUG = Enum.INT_DOUG;
+    static final int INT_DOUJ = Enum.INT_DOUJ;
+    static final int INT_DOWE = Enum.INT_DOWE;
+    static final int INT_DOWH = Enum.INT_DOWH;
+    static final int INT_DPWC = Enum.INT_DPWC;
+    static final int INT_DRAG = Enum.INT_DRAG;
+    static final int INT_DRAK = Enum.INT_DRAK;
+    static final int INT_DRDN = Enum.INT_DRDN;
+    static final int INT_DREA = Enum.INT_DREA;
+    static final int INT_DRES = Enum.INT_DRES;
+    static final int INT_DRGL = Enum.INT_DRGL;
+    static final int INT_DRIE = Enum.INT_DRIE;
+    static final int INT_DRIF = Enum.INT_DRIF;
+    static final int INT_DRIV = Enum.INT_DRIV;
+    static final int INT_DRML = Enum.INT_DRML;
+    static final int INT_DROP = Enum.INT_DROP;
+    static final int INT_DROT = Enum.INT_DROT;
+    static final int INT_DRSN = Enum.INT_DRSN;
+    static final int INT_DRYD = Enum.INT_DRYD;
+    static final int INT_DSPD = Enum.INT_DSPD;
+    static final int INT_DSSC = Enum.INT_DSSC;
+    static final int INT_DSWS = Enum.INT_DSWS;
+    static final int INT_DTCH = Enum.INT_DTCH;
+    static final int INT_DTRL = Enum.INT_DTRL;
+    static final int INT_DTRV = Enum.INT_DTRV;
+    static final int INT_DUAE = Enum.INT_DUAE;
+    static final int INT_DUAL = Enum.INT_DUAL;
+    static final int INT_DUAM = Enum.INT_DUAM;
+    static final int INT_DUCA = Enum.INT_DUCA;
+    static final int INT_DUDE = Enum.INT_DUDE;
+    static final int INT_DUEL = Enum.INT_DUEL;
+    static final int INT_DUES = Enum.INT_DUES;
+    static final int INT_DUGA = Enum.INT_DUGA;
+    static final int INT_DUGO = Enum.INT_DUGO;
+    static final int INT_DUKE = Enum.INT_DUKE;
+    static final int INT_DUNB = Enum.INT_DUNB;
+    static final int INT_DUNH = Enum.INT_DUNH;
+    static final int INT_DUNL = Enum.INT_DUNL;
+    static final int INT_DUNR = Enum.INT_DUNR;
+    static final int INT_DUPA = Enum.INT_DUPA;
+    static final int INT_DUPL = Enum.INT_DUPL;
+    static final int INT_DUPX = Enum.INT_DUPX;
+    static final int INT_DURA = Enum.INT_DURA;
+    static final int INT_DURB = Enum.INT_DURB;
+    static final int INT_DURC = Enum.INT_DURC;
+    static final int INT_DURE = Enum.INT_DURE;
+    static final int INT_DURI = Enum.INT_DURI;
+    static final int INT_DURO = Enum.INT_DURO;
+    static final int INT_DUTC = Enum.INT_DUTC;
+    static final int INT_DUTE = Enum.INT_DUTE;
+    static final int INT_DUTT = Enum.INT_DUTT;
+    static final int INT_DWNS = Enum.INT_DWNS;
+    static final int INT_DWTE = Enum.INT_DWTE;
+    static final int INT_DYCY = Enum.INT_DYCY;
+    static final int INT_DYMC = Enum.INT_DYMC;
+    static final int INT_DYNA = Enum.INT_DYNA;
+    static final int INT_DYNC = Enum.INT_DYNC;
+    static final int INT_DYNM = Enum.INT_DYNM;
+    static final int INT_DYNS = Enum.INT_DYNS;
+    static final int INT_DYNW = Enum.INT_DYNW;
+    static final int INT_DYTC = Enum.INT_DYTC;
+    static final int INT_EACR = Enum.INT_EACR;
+    static final int INT_EADU = Enum.INT_EADU;
+    static final int INT_EAGB = Enum.INT_EAGB;
+    static final int INT_EAGC = Enum.INT_EAGC;
+    static final int INT_EAGE = Enum.INT_EAGE;
+    static final int INT_EAGI = Enum.INT_EAGI;
+    static final int INT_EAGL = Enum.INT_EAGL;
+    static final int INT_EALO = Enum.INT_EALO;
+    static final int INT_EARI = Enum.INT_EARI;
+    static final int INT_EASE = Enum.INT_EASE;
+    static final int INT_EASM = Enum.INT_EASM;
+    static final int INT_EAST = Enum.INT_EAST;
+    static final int INT_EASU = Enum.INT_EASU;
+    static final int INT_EASW = Enum.INT_EASW;
+    static final int INT_EASY = Enum.INT_EASY;
+    static final int INT_EATN = Enum.INT_EATN;
+    static final int INT_EATO = Enum.INT_EATO;
+    static final int INT_EATR = Enum.INT_EATR;
+    static final int INT_EBON = Enum.INT_EBON;
+    static final int INT_ECMY = Enum.INT_ECMY;
+    static final int INT_ECNO = Enum.INT_ECNO;
+    static final int INT_ECOB = Enum.INT_ECOB;
+    static final int INT_ECOF = Enum.INT_ECOF;
+    static final int INT_ECON = Enum.INT_ECON;
+    static final int INT_ECSA = Enum.INT_ECSA;
+    static final int INT_ECTA = Enum.INT_ECTA;
+    static final int INT_EDEY = Enum.INT_EDEY;
+    static final int INT_EDSE = Enum.INT_EDSE;
+    static final int INT_EDWA = Enum.INT_EDWA;
+    static final int INT_EDWN = Enum.INT_EDWN;
+    static final int INT_EEE = Enum.INT_EEE;
+    static final int INT_EEZY = Enum.INT_EEZY;
+    static final int INT_EGIL = Enum.INT_EGIL;
+    static final int INT_EGLE = Enum.INT_EGLE;
+    static final int INT_EHMC = Enum.INT_EHMC;
+    static final int INT_EIDA = Enum.INT_EIDA;
+    static final int INT_EIDL = Enum.INT_EIDL;
+    static final int INT_EIGH = Enum.INT_EIGH;
+    static final int INT_EJAY = Enum.INT_EJAY;
+    static final int INT_EKCH = Enum.INT_EKCH;
+    static final int INT_ELCA = Enum.INT_ELCA;
+    static final int INT_ELCO = Enum.INT_ELCO;
+    static final int INT_ELCT = Enum.INT_ELCT;
+    static final int INT_ELCY = Enum.INT_ELCY;
+    static final int INT_ELDC = Enum.INT_ELDC;
+    static final int INT_ELDE = Enum.INT_ELDE;
+    static final int INT_ELDO = Enum.INT_ELDO;
+    static final int INT_ELEC = Enum.INT_ELEC;
+    static final int INT_ELET = Enum.INT_ELET;
+    static final int INT_ELGI = Enum.INT_ELGI;
+    static final int INT_ELGN = Enum.INT_ELGN;
+    static final int INT_ELIT = Enum.INT_ELIT;
+    static final int INT_ELJA = Enum.INT_ELJA;
+    static final int INT_ELKA = Enum.INT_ELKA;
+    static final int INT_ELKH = Enum.INT_ELKH;
+    static final int INT_ELLE = Enum.INT_ELLE;
+    static final int INT_ELLI = Enum.INT_ELLI;
+    static final int INT_ELLS = Enum.INT_ELLS;
+    static final int INT_ELMA = Enum.INT_ELMA;
+    static final int INT_ELVA = Enum.INT_ELVA;
+    static final int INT_ELVC = Enum.INT_ELVC;
+    static final int INT_ELVT = Enum.INT_ELVT;
+    static final int INT_EMBA = Enum.INT_EMBA;
+    static final int INT_EMBB = Enum.INT_EMBB;
+    static final int INT_EMCO = Enum.INT_EMCO;
+    static final int INT_EMER = Enum.INT_EMER;
+    static final int INT_EMME = Enum.INT_EMME;
+    static final int INT_EMML = Enum.INT_EMML;
+    static final int INT_EMON = Enum.INT_EMON;
+    static final int INT_EMPC = Enum.INT_EMPC;
+    static final int INT_EMPG = Enum.INT_EMPG;
+    static final int INT_EMPI = Enum.INT_EMPI;
+    static final int INT_EMPL = Enum.INT_EMPL;
+    static final int INT_EMPR = Enum.INT_EMPR;
+    static final int INT_EMW = Enum.INT_EMW;
+    static final int INT_ENCO = Enum.INT_ENCO;
+    static final int INT_ENCR = Enum.INT_ENCR;
+    static final int INT_ENER = Enum.INT_ENER;
+    static final int INT_ENGF = Enum.INT_ENGF;
+    static final int INT_ENGI = Enum.INT_ENGI;
+    static final int INT_ENGL = Enum.INT_ENGL;
+    static final int INT_ENGN = Enum.INT_ENGN;
+    static final int INT_ENMC = Enum.INT_ENMC;
+    static final int INT_ENPR = Enum.INT_ENPR;
+    static final int INT_ENRT = Enum.INT_ENRT;
+    static final int INT_ENSE = Enum.INT_ENSE;
+    static final int INT_ENTR = Enum.INT_ENTR;
+    static final int INT_ENVA = Enum.INT_ENVA;
+    static final int INT_ENVI = Enum.INT_ENVI;
+    static final int INT_ENVY = Enum.INT_ENVY;
+    static final int INT_ENZM = Enum.INT_ENZM;
+    static final int INT_EQPR = Enum.INT_EQPR;
+    static final int INT_ERCE = Enum.INT_ERCE;
+    static final int INT_EREK = Enum.INT_EREK;
+    static final int INT_ERIC = Enum.INT_ERIC;
+    static final int INT_ERIE = Enum.INT_ERIE;
+    static final int INT_ERIG = Enum.INT_ERIG;
+    static final int INT_ERIN = Enum.INT_ERIN;
+    static final int INT_ERIS = Enum.INT_ERIS;
+    static final int INT_ERMC = Enum.INT_ERMC;
+    static final int INT_ERSK = Enum.INT_ERSK;
+    static final int INT_ESCA = Enum.INT_ESCA;
+    static final int INT_ESCC = Enum.INT_ESCC;
+    static final int INT_ESCO = Enum.INT_ESCO;
+    static final int INT_ESCP = Enum.INT_ESCP;
+    static final int INT_ESCT = Enum.INT_ESCT;
+    static final int INT_ESHL = Enum.INT_ESHL;
+    static final int INT_ESIX = Enum.INT_ESIX;
+    static final int INT_ESQU = Enum.INT_ESQU;
+    static final int INT_ESSE = Enum.INT_ESSE;
+    static final int INT_ESSI = Enum.INT_ESSI;
+    static final int INT_ESSK = Enum.INT_ESSK;
+    static final int INT_ESTA = Enum.INT_ESTA;
+    static final int INT_ESTE = Enum.INT_ESTE;
+    static final int INT_ESTM = Enum.INT_ESTM;
+    static final int INT_ETNY = Enum.INT_ETNY;
+    static final int INT_ETON = Enum.INT_ETON;
+    static final int INT_ETXL = Enum.INT_ETXL;
+    static final int INT_EUCL = Enum.INT_EUCL;
+    static final int INT_EVAN = Enum.INT_EVAN;
+    static final int INT_EVAP = Enum.INT_EVAP;
+    static final int INT_EVAS = Enum.INT_EVAS;
+    static final int INT_EVEN = Enum.INT_EVEN;
+    static final int INT_EVER = Enum.INT_EVER;
+    static final int INT_EVES = Enum.INT_EVES;
+    static final int INT_EVIN = Enum.INT_EVIN;
+    static final int INT_EVLT = Enum.INT_EVLT;
+    static final int INT_EVRY = Enum.INT_EVRY;
+    static final int INT_EWAL = Enum.INT_EWAL;
+    static final int INT_EXC = Enum.INT_EXC;
+    static final int INT_EXCE = Enum.INT_EXCE;
+    static final int INT_EXCI = Enum.INT_EXCI;
+    static final int INT_EXCL = Enum.INT_EXCL;
+    static final int INT_EXCR = Enum.INT_EXCR;
+    static final int INT_EXCY = Enum.INT_EXCY;
+    static final int INT_EXEC = Enum.INT_EXEC;
+    static final int INT_EXEZ = Enum.INT_EXEZ;
+    static final int INT_EXHE = Enum.INT_EXHE;
+    static final int INT_EXIS = Enum.INT_EXIS;
+    static final int INT_EXPD = Enum.INT_EXPD;
+    static final int INT_EXPL = Enum.INT_EXPL;
+    static final int INT_EXTL = Enum.INT_EXTL;
+    static final int INT_EXTO = Enum.INT_EXTO;
+    static final int INT_EZAC = Enum.INT_EZAC;
+    static final int INT_EZCK = Enum.INT_EZCK;
+    static final int INT_EZHA = Enum.INT_EZHA;
+    static final int INT_EZLD = Enum.INT_EZLD;
+    static final int INT_EZUT = Enum.INT_EZUT;
+    static final int INT_EZZY = Enum.INT_EZZY;
+    static final int INT_FAAL = Enum.INT_FAAL;
+    static final int INT_FABC = Enum.INT_FABC;
+    static final int INT_FABO = Enum.INT_FABO;
+    static final int INT_FACE = Enum.INT_FACE;
+    static final int INT_FACL = Enum.INT_FACL;
+    static final int INT_FACT = Enum.INT_FACT;
+    static final int INT_FAIH = Enum.INT_FAIH;
+    static final int INT_FAIM = Enum.INT_FAIM;
+    static final int INT_FAIR = Enum.INT_FAIR;
+    static final int INT_FALC = Enum.INT_FALC;
+    static final int INT_FALL = Enum.INT_FALL;
+    static final int INT_FALM = Enum.INT_FALM;
+    static final int INT_FALN = Enum.INT_FALN;
+    static final int INT_FAN = Enum.INT_FAN;
+    static final int INT_FARG = Enum.INT_FARG;
+    static final int INT_FARH = Enum.INT_FARH;
+    static final int INT_FARK = Enum.INT_FARK;
+    static final int INT_FARM = Enum.INT_FARM;
+    static final int INT_FARW = Enum.INT_FARW;
+    static final int INT_FAST = Enum.INT_FAST;
+    static final int INT_FATC = Enum.INT_FATC;
+    static final int INT_FAWN = Enum.INT_FAWN;
+    static final int INT_FAYE = Enum.INT_FAYE;
+    static final int INT_FECH = Enum.INT_FECH;
+    static final int INT_FEDE = Enum.INT_FEDE;
+    static final int INT_FEDL = Enum.INT_FEDL;
+    static final int INT_FELB = Enum.INT_FELB;
+    static final int INT_FELD = Enum.INT_FELD;
+    static final int INT_FELL = Enum.INT_FELL;
+    static final int INT_FELP = Enum.INT_FELP;
+    static final int INT_FEMC = Enum.INT_FEMC;
+    static final int INT_FERE = Enum.INT_FERE;
+    static final int INT_FERG = Enum.INT_FERG;
+    static final int INT_FERR = Enum.INT_FERR;
+    static final int INT_FERT = Enum.INT_FERT;
+    static final int INT_FEST = Enum.INT_FEST;
+    static final int INT_FETE = Enum.INT_FETE;
+    static final int INT_FEYF = Enum.INT_FEYF;
+    static final int INT_FHL = Enum.INT_FHL;
+    static final int INT_FHMC = Enum.INT_FHMC;
+    static final int INT_FIAA = Enum.INT_FIAA;
+    static final int INT_FIAC = Enum.INT_FIAC;
+    static final int INT_FIAL = Enum.INT_FIAL;
+    static final int INT_FIAT = Enum.INT_FIAT;
+    static final int INT_FIBE = Enum.INT_FIBE;
+    static final int INT_FIBI = Enum.INT_FIBI;
+    static final int INT_FIEA = Enum.INT_FIEA;
+    static final int INT_FIED = Enum.INT_FIED;
+    static final int INT_FIEL = Enum.INT_FIEL;
+    static final int INT_FIEM = Enum.INT_FIEM;
+    static final int INT_FIES = Enum.INT_FIES;
+    static final int INT_FIFE = Enum.INT_FIFE;
+    static final int INT_FIGU = Enum.INT_FIGU;
+    static final int INT_FIKO = Enum.INT_FIKO;
+    static final int INT_FILK = Enum.INT_FILK;
+    static final int INT_FINN = Enum.INT_FINN;
+    static final int INT_FIRB = Enum.INT_FIRB;
+    static final int INT_FIRE = Enum.INT_FIRE;
+    static final int INT_FIRS = Enum.INT_FIRS;
+    static final int INT_FIRT = Enum.INT_FIRT;
+    static final int INT_FISC = Enum.INT_FISC;
+    static final int INT_FIST = Enum.INT_FIST;
+    static final int INT_FIVE = Enum.INT_FIVE;
+    static final int INT_FIVK = Enum.INT_FIVK;
+    static final int INT_FLAG = Enum.INT_FLAG;
+    static final int INT_FLAH = Enum.INT_FLAH;
+    static final int INT_FLAI = Enum.INT_FLAI;
+    static final int INT_FLAM = Enum.INT_FLAM;
+    static final int INT_FLAN = Enum.INT_FLAN;
+    static final int INT_FLAS = Enum.INT_FLAS;
+    static final int INT_FLBR = Enum.INT_FLBR;
+    static final int INT_FLE = Enum.INT_FLE;
+    static final int INT_FLEA = Enum.INT_FLEA;
+    static final int INT_FLEE = Enum.INT_FLEE;
+    static final int INT_FLEI = Enum.INT_FLEI;
+    static final int INT_FLEM = Enum.INT_FLEM;
+    static final int INT_FLEN = Enum.INT_FLEN;
+    static final int INT_FLEO = Enum.INT_FLEO;
+    static final int INT_FLEX = Enum.INT_FLEX;
+    static final int INT_FLIN = Enum.INT_FLIN;
+    static final int INT_FLMG = Enum.INT_FLMG;
+    static final int INT_FLMR = Enum.INT_FLMR;
+    static final int INT_FLNG = Enum.INT_FLNG;
+    static final int INT_FLOA = Enum.INT_FLOA;
+    static final int INT_FLOD = Enum.INT_FLOD;
+    static final int INT_FLOE = Enum.INT_FLOE;
+    static final int INT_FLOI = Enum.INT_FLOI;
+    static final int INT_FLOR = Enum.INT_FLOR;
+    static final int INT_FLOT = Enum.INT_FLOT;
+    static final int INT_FLOW = Enum.INT_FLOW;
+    static final int INT_FLYI = Enum.INT_FLYI;
+    static final int INT_FLYL = Enum.INT_FLYL;
+    static final int INT_FMC = Enum.INT_FMC;
+    static final int INT_FMSH = Enum.INT_FMSH;
+    static final int INT_FN = Enum.INT_FN;
+    static final int INT_FNM = Enum.INT_FNM;
+    static final int INT_FNTM = Enum.INT_FNTM;
+    static final int INT_FOLA = Enum.INT_FOLA;
+    static final int INT_FOML = Enum.INT_FOML;
+    static final int INT_FOMO = Enum.INT_FOMO;
+    static final int INT_FONA = Enum.INT_FONA;
+    static final int INT_FONT = Enum.INT_FONT;
+    static final int INT_FOOT = Enum.INT_FOOT;
+    static final int INT_FOR = Enum.INT_FOR;
+    static final int INT_FORA = Enum.INT_FORA;
+    static final int INT_FORC = Enum.INT_FORC;
+    static final int INT_FORD = Enum.INT_FORD;
+    static final int INT_FORE = Enum.INT_FORE;
+    static final int INT_FORF = Enum.INT_FORF;
+    static final int INT_FORG = Enum.INT_FORG;
+    static final int INT_FORH = Enum.INT_FORH;
+    static final int INT_FORI = Enum.INT_FORI;
+    static final int INT_FORL = Enum.INT_FORL;
+    static final int INT_FORN = Enum.INT_FORN;
+    static final int INT_FORR = Enum.INT_FORR;
+    static final int INT_FORS = Enum.INT_FORS;
+    static final int INT_FORT = Enum.INT_FORT;
+    static final int INT_FORU = Enum.INT_FORU;
+    static final int INT_FOSJ = Enum.INT_FOSJ;
+    static final int INT_FOST = Enum.INT_FOST;
+    static final int INT_FOTX = Enum.INT_FOTX;
+    static final int INT_FOUN = Enum.INT_FOUN;
+    static final int INT_FOUR = Enum.INT_FOUR;
+    static final int INT_FOUS = Enum.INT_FOUS;
+    static final int INT_FOUT = Enum.INT_FOUT;
+    static final int INT_FOUW = Enum.INT_FOUW;
+    static final int INT_FOWN = Enum.INT_FOWN;
+    static final int INT_FOX = Enum.INT_FOX;
+    static final int INT_FOXI = Enum.INT_FOXI;
+    static final int INT_FRAC = Enum.INT_FRAC;
+    static final int INT_FRAI = Enum.INT_FRAI;
+    static final int INT_FRAK = Enum.INT_FRAK;
+    static final int INT_FRAN = Enum.INT_FRAN;
+    static final int INT_FRAZ = Enum.INT_FRAZ;
+    static final int INT_FRBA = Enum.INT_FRBA;
+    static final int INT_FRCS = Enum.INT_FRCS;
+    static final int INT_FREA = Enum.INT_FREA;
+    static final int INT_FRED = Enum.INT_FRED;
+    static final int INT_FREE = Enum.INT_FREE;
+    static final int INT_FREF = Enum.INT_FREF;
+    static final int INT_FREN = Enum.INT_FREN;
+    static final int INT_FRES = Enum.INT_FRES;
+    static final int INT_FRHH = Enum.INT_FRHH;
+    static final int INT_FRHT = Enum.INT_FRHT;
+    static final int INT_FRIE = Enum.INT_FRIE;
+    static final int INT_FRIG = Enum.INT_FRIG;
+    static final int INT_FRIS = Enum.INT_FRIS;
+    static final int INT_FRNA = Enum.INT_FRNA;
+    static final int INT_FRNK = Enum.INT_FRNK;
+    static final int INT_FROL = Enum.INT_FROL;
+    static final int INT_FRON = Enum.INT_FRON;
+    static final int INT_FROS = Enum.INT_FROS;
+    static final int INT_FRRS = Enum.INT_FRRS;
+    static final int INT_FRRV = Enum.INT_FRRV;
+    static final int INT_FRTV = Enum.INT_FRTV;
+    static final int INT_FRUE = Enum.INT_FRUE;
+    static final int INT_FRUN = Enum.INT_FRUN;
+    static final int INT_FRYE = Enum.INT_FRYE;
+    static final int INT_FSLD = Enum.INT_FSLD;
+    static final int INT_FSTL = Enum.INT_FSTL;
+    static final int INT_FTRC = Enum.INT_FTRC;
+    static final int INT_FTWD = Enum.INT_FTWD;
+    static final int INT_FUER = Enum.INT_FUER;
+    static final int INT_FUJI = Enum.INT_FUJI;
+    static final int INT_FULL = Enum.INT_FULL;
+    static final int INT_FULT = Enum.INT_FULT;
+    static final int INT_FUNL = Enum.INT_FUNL;
+    static final int INT_FUNT = Enum.INT_FUNT;
+    static final int INT_FUQU = Enum.INT_FUQU;
+    static final int INT_FURA = Enum.INT_FURA;
+    static final int INT_FUTR = Enum.INT_FUTR;
+    static final int INT_FUTU = Enum.INT_FUTU;
+    static final int INT_FWD = Enum.INT_FWD;
+    static final int INT_GAAC = Enum.INT_GAAC;
+    static final int INT_GABB = Enum.INT_GABB;
+    static final int INT_GABR = Enum.INT_GABR;
+    static final int INT_GADA = Enum.INT_GADA;
+    static final int INT_GADB = Enum.INT_GADB;
+    static final int INT_GAFN = Enum.INT_GAFN;
+    static final int INT_GALA = Enum.INT_GALA;
+    static final int INT_GALB = Enum.INT_GALB;
+    static final int INT_GALI = Enum.INT_GALI;
+    static final int INT_GALT = Enum.INT_GALT;
+    static final int INT_GANN = Enum.INT_GANN;
+    static final int INT_GARB = Enum.INT_GARB;
+    static final int INT_GARD = Enum.INT_GARD;
+    static final int INT_GARE = Enum.INT_GARE;
+    static final int INT_GARH = Enum.INT_GARH;
+    static final int INT_GARL = Enum.INT_GARL;
+    static final int INT_GARN = Enum.INT_GARN;
+    static final int INT_GARO = Enum.INT_GARO;
+    static final int INT_GARP = Enum.INT_GARP;
+    static final int INT_GARR = Enum.INT_GARR;
+    static final int INT_GARS = Enum.INT_GARS;
+    static final int INT_GARY = Enum.INT_GARY;
+    static final int INT_GASE = Enum.INT_GASE;
+    static final int INT_GAST = Enum.INT_GAST;
+    static final int INT_GATE = Enum.INT_GATE;
+    static final int INT_GATO = Enum.INT_GATO;
+    static final int INT_GATP = Enum.INT_GATP;
+    static final int INT_GAZ = Enum.INT_GAZ;
+    static final int INT_GBCO = Enum.INT_GBCO;
+    static final int INT_GCMC = Enum.INT_GCMC;
+    static final int INT_GDAN = Enum.INT_GDAN;
+    static final int INT_GE = Enum.INT_GE;
+    static final int INT_GECI = Enum.INT_GECI;
+    static final int INT_GEEB = Enum.INT_GEEB;
+    static final int INT_GEEC = Enum.INT_GEEC;
+    static final int INT_GEEL = Enum.INT_GEEL;
+    static final int INT_GEEN = Enum.INT_GEEN;
+    static final int INT_GEER = Enum.INT_GEER;
+    static final int INT_GEHL = Enum.INT_GEHL;
+    static final int INT_GELT = Enum.INT_GELT;
+    static final int INT_GEM = Enum.INT_GEM;
+    static final int INT_GEMI = Enum.INT_GEMI;
+    static final int INT_GEMT = Enum.INT_GEMT;
+    static final int INT_GEN = Enum.INT_GEN;
+    static final int INT_GENA = Enum.INT_GENA;
+    static final int INT_GENC = Enum.INT_GENC;
+    static final int INT_GENE = Enum.INT_GENE;
+    static final int INT_GENF = Enum.INT_GENF;
+    static final int INT_GENG = Enum.INT_GENG;
+    static final int INT_GENH = Enum.INT_GENH;
+    static final int INT_GENI = Enum.INT_GENI;
+    static final int INT_GENM = Enum.INT_GENM;
+    static final int INT_GENR = Enum.INT_GENR;
+    static final int INT_GENT = Enum.INT_GENT;
+    static final int INT_GEO = Enum.INT_GEO;
+    static final int INT_GEOR = Enum.INT_GEOR;
+    static final int INT_GEOT = Enum.INT_GEOT;
+    static final int INT_GERA = Enum.INT_GERA;
+    static final int INT_GERC = Enum.INT_GERC;
+    static final int INT_GERL = Enum.INT_GERL;
+    static final int INT_GERR = Enum.INT_GERR;
+    static final int INT_GETM = Enum.INT_GETM;
+    static final int INT_GFHT = Enum.INT_GFHT;
+    static final int INT_GFST = Enum.INT_GFST;
+    static final int INT_GFTR = Enum.INT_GFTR;
+    static final int INT_GHIE = Enum.INT_GHIE;
+    static final int INT_GHMI = Enum.INT_GHMI;
+    static final int INT_GIAA = Enum.INT_GIAA;
+    static final int INT_GIAN = Enum.INT_GIAN;
+    static final int INT_GIAT = Enum.INT_GIAT;
+    static final int INT_GIBL = Enum.INT_GIBL;
+    static final int INT_GIBR = Enum.INT_GIBR;
+    static final int INT_GIDD = Enum.INT_GIDD;
+    static final int INT_GIGI = Enum.INT_GIGI;
+    static final int INT_GILB = Enum.INT_GILB;
+    static final int INT_GILD = Enum.INT_GILD;
+    static final int INT_GILE = Enum.INT_GILE;
+    static final int INT_GILG = Enum.INT_GILG;
+    static final int INT_GILL = Enum.INT_GILL;
+    static final int INT_GILM = Enum.INT_GILM;
+    static final int INT_GILS = Enum.INT_GILS;
+    static final int INT_GILT = Enum.INT_GILT;
+    static final int INT_GIND = Enum.INT_GIND;
+    static final int INT_GINE = Enum.INT_GINE;
+    static final int INT_GINR = Enum.INT_GINR;
+    static final int INT_GIRA = Enum.INT_GIRA;
+    static final int INT_GISN = Enum.INT_GISN;
+    static final int INT_GITA = Enum.INT_GITA;
+    static final int INT_GIVE = Enum.INT_GIVE;
+    static final int INT_GLAD = Enum.INT_GLAD;
+    static final int INT_GLAS = Enum.INT_GLAS;
+    static final int INT_GLAT = Enum.INT_GLAT;
+    static final int INT_GLBE = Enum.INT_GLBE;
+    static final int INT_GLBL = Enum.INT_GLBL;
+    static final int INT_GLCG = Enum.INT_GLCG;
+    static final int INT_GLEA = Enum.INT_GLEA;
+    static final int INT_GLEB = Enum.INT_GLEB;
+    static final int INT_GLEC = Enum.INT_GLEC;
+    static final int INT_GLEH = Enum.INT_GLEH;
+    static final int INT_GLEL = Enum.INT_GLEL;
+    static final int INT_GLEN = Enum.INT_GLEN;
+    static final int INT_GLFI = Enum.INT_GLFI;
+    static final int INT_GLID = Enum.INT_GLID;
+    static final int INT_GLIT = Enum.INT_GLIT;
+    static final int INT_GLMB = Enum.INT_GLMB;
+    static final int INT_GLND = Enum.INT_GLND;
+    static final int INT_GLNL = Enum.INT_GLNL;
+    static final int INT_GLOB = Enum.INT_GLOB;
+    static final int INT_GLOM = Enum.INT_GLOM;
+    static final int INT_GLOS = Enum.INT_GLOS;
+    static final int INT_GLOV = Enum.INT_GLOV;
+    static final int INT_GLRV = Enum.INT_GLRV;
+    static final int INT_GLSC = Enum.INT_GLSC;
+    static final int INT_GLSS = Enum.INT_GLSS;
+    static final int INT_GLST = Enum.INT_GLST;
+    static final int INT_GLWO = Enum.INT_GLWO;
+    static final int INT_GM = Enum.INT_GM;
+    static final int INT_GMC = Enum.INT_GMC;
+    static final int INT_GMRE = Enum.INT_GMRE;
+    static final int INT_GNMI = Enum.INT_GNMI;
+    static final int INT_GNSH = Enum.INT_GNSH;
+    static final int INT_GNWF = Enum.INT_GNWF;
+    static final int INT_GOAT = Enum.INT_GOAT;
+    static final int INT_GOCO = Enum.INT_GOCO;
+    static final int INT_GOEB = Enum.INT_GOEB;
+    static final int INT_GOFF = Enum.INT_GOFF;
+    static final int INT_GOGA = Enum.INT_GOGA;
+    static final int INT_GOGE = Enum.INT_GOGE;
+    static final int INT_GOGO = Enum.INT_GOGO;
+    static final int INT_GOKT = Enum.INT_GOKT;
+    static final int INT_GOLA = Enum.INT_GOLA;
+    static final int INT_GOLD = Enum.INT_GOLD;
+    static final int INT_GOLE = Enum.INT_GOLE;
+    static final int INT_GOLI = Enum.INT_GOLI;
+    static final int INT_GOLK = Enum.INT_GOLK;
+    static final int INT_GOLL = Enum.INT_GOLL;
+    static final int INT_GOLM = Enum.INT_GOLM;
+    static final int INT_GOLN = Enum.INT_GOLN;
+    static final int INT_GONA = Enum.INT_GONA;
+    static final int INT_GONU = Enum.INT_GONU;
+    static final int INT_GOOD = Enum.INT_GOOD;
+    static final int INT_GOOS = Enum.INT_GOOS;
+    static final int INT_GOOY = Enum.INT_GOOY;
+    static final int INT_GORB = Enum.INT_GORB;
+    static final int INT_GORD = Enum.INT_GORD;
+    static final int INT_GORE = Enum.INT_GORE;
+    static final int INT_GORM = Enum.INT_GORM;
+    static final int INT_GORO = Enum.INT_GORO;
+    static final int INT_GPRX = Enum.INT_GPRX;
+    static final int INT_GRAB = Enum.INT_GRAB;
+    static final int INT_GRAC = Enum.INT_GRAC;
+    static final int INT_GRAD = Enum.INT_GRAD;
+    static final int INT_GRAE = Enum.INT_GRAE;
+    static final int INT_GRAF = Enum.INT_GRAF;
+    static final int INT_GRAH = Enum.INT_GRAH;
+    static final int INT_GRAM = Enum.INT_GRAM;
+    static final int INT_GRAO = Enum.INT_GRAO;
+    static final int INT_GRAP = Enum.INT_GRAP;
+    static final int INT_GRAV = Enum.INT_GRAV;
+    static final int INT_GRDN = Enum.INT_GRDN;
+    static final int INT_GREA = Enum.INT_GREA;
+    static final int INT_GREB = Enum.INT_GREB;
+    static final int INT_GREE = Enum.INT_GREE;
+    static final int INT_GREG = Enum.INT_GREG;
+    static final int INT_GREI = Enum.INT_GREI;
+    static final int INT_GREL = Enum.INT_GREL;
+    static final int INT_GREM = Enum.INT_GREM;
+    static final int INT_GREN = Enum.INT_GREN;
+    static final int INT_GRER = Enum.INT_GRER;
+    static final int INT_GRES = Enum.INT_GRES;
+    static final int INT_GREV = Enum.INT_GREV;
+    static final int INT_GRIF = Enum.INT_GRIF;
+    static final int INT_GRIM = Enum.INT_GRIM;
+    static final int INT_GRIZ = Enum.INT_GRIZ;
+    static final int INT_GRLK = Enum.INT_GRLK;
+    static final int INT_GRNE = Enum.INT_GRNE;
+    static final int INT_GRNH = Enum.INT_GRNH;
+    static final int INT_GROE = Enum.INT_GROE;
+    static final int INT_GROV = Enum.INT_GROV;
+    static final int INT_GRRM = Enum.INT_GRRM;
+    static final int INT_GRSO = Enum.INT_GRSO;
+    static final int INT_GRSP = Enum.INT_GRSP;
+    static final int INT_GRUE = Enum.INT_GRUE;
+    static final int INT_GRUM = Enum.INT_GRUM;
+    static final int INT_GRVE = Enum.INT_GRVE;
+    static final int INT_GRVM = Enum.INT_GRVM;
+    static final int INT_GRYE = Enum.INT_GRYE;
+    static final int INT_GRZL = Enum.INT_GRZL;
+    static final int INT_GSCR = Enum.INT_GSCR;
+    static final int INT_GSEN = Enum.INT_GSEN;
+    static final int INT_GSIN = Enum.INT_GSIN;
+    static final int INT_GSM = Enum.INT_GSM;
+    static final int INT_GUER = Enum.INT_GUER;
+    static final int INT_GUES = Enum.INT_GUES;
+    static final int INT_GUID = Enum.INT_GUID;
+    static final int INT_GUIZ = Enum.INT_GUIZ;
+    static final int INT_GULF = Enum.INT_GULF;
+    static final int INT_GUST = Enum.INT_GUST;
+    static final int INT_GUTH = Enum.INT_GUTH;
+    static final int INT_GUZO = Enum.INT_GUZO;
+    static final int INT_GWM = Enum.INT_GWM;
+    static final int INT_GYEL = Enum.INT_GYEL;
+    static final int INT_GYPS = Enum.INT_GYPS;
+    static final int INT_GZL = Enum.INT_GZL;
+    static final int INT_HACK = Enum.INT_HACK;
+    static final int INT_HADL = Enum.INT_HADL;
+    static final int INT_HADX = Enum.INT_HADX;
+    static final int INT_HAFA = Enum.INT_HAFA;
+    static final int INT_HAFL = Enum.INT_HAFL;
+    static final int INT_HAHN = Enum.INT_HAHN;
+    static final int INT_HAIR = Enum.INT_HAIR;
+    static final int INT_HALC = Enum.INT_HALC;
+    static final int INT_HALE = Enum.INT_HALE;
+    static final int INT_HALL = Enum.INT_HALL;
+    static final int INT_HALM = Enum.INT_HALM;
+    static final int INT_HALN = Enum.INT_HALN;
+    static final int INT_HALR = Enum.INT_HALR;
+    static final int INT_HAMB = Enum.INT_HAMB;
+    static final int INT_HAMI = Enum.INT_HAMI;
+    static final int INT_HAML = Enum.INT_HAML;
+    static final int INT_HAMP = Enum.INT_HAMP;
+    static final int INT_HAMR = Enum.INT_HAMR;
+    static final int INT_HANK = Enum.INT_HANK;
+    static final int INT_HANN = Enum.INT_HANN;
+    static final int INT_HANO = Enum.INT_HANO;
+    static final int INT_HANS = Enum.INT_HANS;
+    static final int INT_HAPP = Enum.INT_HAPP;
+    static final int INT_HAPY = Enum.INT_HAPY;
+    static final int INT_HARB = Enum.INT_HARB;
+    static final int INT_HARC = Enum.INT_HARC;
+    static final int INT_HARD = Enum.INT_HARD;
+    static final int INT_HARF = Enum.INT_HARF;
+    static final int INT_HARG = Enum.INT_HARG;
+    static final int INT_HARH = Enum.INT_HARH;
+    static final int INT_HARI = Enum.INT_HARI;
+    static final int INT_HARK = Enum.INT_HARK;
+    static final int INT_HARL = Enum.INT_HARL;
+    static final int INT_HARM = Enum.INT_HARM;
+    static final int INT_HARN = Enum.INT_HARN;
+    static final int INT_HARR = Enum.INT_HARR;
+    static final int INT_HART = Enum.INT_HART;
+    static final int INT_HARV = Enum.INT_HARV;
+    static final int INT_HARW = Enum.INT_HARW;
+    static final int INT_HAUA = Enum.INT_HAUA;
+    static final int INT_HAUI = Enum.INT_HAUI;
+    static final int INT_HAUL = Enum.INT_HAUL;
+    static final int INT_HAUR = Enum.INT_HAUR;
+    static final int INT_HAUT = Enum.INT_HAUT;
+    static final int INT_HAWK = Enum.INT_HAWK;
+    static final int INT_HAWN = Enum.INT_HAWN;
+    static final int INT_HAWT = Enum.INT_HAWT;
+    static final int INT_HAYE = Enum.INT_HAYE;
+    static final int INT_HAYN = Enum.INT_HAYN;
+    static final int INT_HAYS = Enum.INT_HAYS;
+    static final int INT_HBTC = Enum.INT_HBTC;
+    static final int INT_HD = Enum.INT_HD;
+    static final int INT_HDHM = Enum.INT_HDHM;
+    static final int INT_HDMC = Enum.INT_HDMC;
+    static final int INT_HDSN = Enum.INT_HDSN;
+    static final int INT_HEAL = Enum.INT_HEAL;
+    static final int INT_HEAR = Enum.INT_HEAR;
+    static final int INT_HEAT = Enum.INT_HEAT;
+    static final int INT_HECD = Enum.INT_HECD;
+    static final int INT_HECK = Enum.INT_HECK;
+    static final int INT_HECO = Enum.INT_HECO;
+    static final int INT_HEDW = Enum.INT_HEDW;
+    static final int INT_HEIL = Enum.INT_HEIL;
+    static final int INT_HEIN = Enum.INT_HEIN;
+    static final int INT_HEIT = Enum.INT_HEIT;
+    static final int INT_HELM = Enum.INT_HELM;
+    static final int INT_HELR = Enum.INT_HELR;
+    static final int INT_HELT = Enum.INT_HELT;
+    static final int INT_HEND = Enum.INT_HEND;
+    static final int INT_HENE = Enum.INT_HENE;
+    static final int INT_HENK = Enum.INT_HENK;
+    static final int INT_HENM = Enum.INT_HENM;
+    static final int INT_HENN = Enum.INT_HENN;
+    static final int INT_HENR = Enum.INT_HENR;
+    static final int INT_HENS = Enum.INT_HENS;
+    static final int INT_HERB = Enum.INT_HERB;
+    static final int INT_HERC = Enum.INT_HERC;
+    static final int INT_HERD = Enum.INT_HERD;
+    static final int INT_HERI = Enum.INT_HERI;
+    static final int INT_HERO = Enum.INT_HERO;
+    static final int INT_HERR = Enum.INT_HERR;
+    static final int INT_HERT = Enum.INT_HERT;
+    static final int INT_HERZ = Enum.INT_HERZ;
+    static final int INT_HESC = Enum.INT_HESC;
+    static final int INT_HESS = Enum.INT_HESS;
+    static final int INT_HEST = Enum.INT_HEST;
+    static final int INT_HETG = Enum.INT_HETG;
+    static final int INT_HEWE = Enum.INT_HEWE;
+    static final int INT_HEWI = Enum.INT_HEWI;
+    static final int INT_HFTD = Enum.INT_HFTD;
+    static final int INT_HGON = Enum.INT_HGON;
+    static final int INT_HHTC = Enum.INT_HHTC;
+    static final int INT_HI = Enum.INT_HI;
+    static final int INT_HIAA = Enum.INT_HIAA;
+    static final int INT_HIAB = Enum.INT_HIAB;
+    static final int INT_HIAW = Enum.INT_HIAW;
+    static final int INT_HIBD = Enum.INT_HIBD;
+    static final int INT_HIBT = Enum.INT_HIBT;
+    static final int INT_HICH = Enum.INT_HICH;
+    static final int INT_HICK = Enum.INT_HICK;
+    static final int INT_HICO = Enum.INT_HICO;
+    static final int INT_HICS = Enum.INT_HICS;
+    static final int INT_HIDE = Enum.INT_HIDE;
+    static final int INT_HIGA = Enum.INT_HIGA;
+    static final int INT_HIGE = Enum.INT_HIGE;
+    static final int INT_HIGH = Enum.INT_HIGH;
+    static final int INT_HIGK = Enum.INT_HIGK;
+    static final int INT_HIGL = Enum.INT_HIGL;
+    static final int INT_HIGW = Enum.INT_HIGW;
+    static final int INT_HIGY = Enum.INT_HIGY;
+    static final int INT_HIHK = Enum.INT_HIHK;
+    static final int INT_HILB = Enum.INT_HILB;
+    static final int INT_HILC = Enum.INT_HILC;
+    static final int INT_HILD = Enum.INT_HILD;
+    static final int INT_HILF = Enum.INT_HILF;
+    static final int INT_HILI = Enum.INT_HILI;
+    static final int INT_HILL = Enum.INT_HILL;
+    static final int INT_HILM = Enum.INT_HILM;
+    static final int INT_HILO = Enum.INT_HILO;
+    static final int INT_HILP = Enum.INT_HILP;
+    static final int INT_HILS = Enum.INT_HILS;
+    static final int INT_HILT = Enum.INT_HILT;
+    static final int INT_HIND = Enum.INT_HIND;
+    static final int INT_HINE = Enum.INT_HINE;
+    static final int INT_HINO = Enum.INT_HINO;
+    static final int INT_HINS = Enum.INT_HINS;
+    static final int INT_HINT = Enum.INT_HINT;
+    static final int INT_HIRE = Enum.INT_HIRE;
+    static final int INT_HIST = Enum.INT_HIST;
+    static final int INT_HITC = Enum.INT_HITC;
+    static final int INT_HIUT = Enum.INT_HIUT;
+    static final int INT_HIWY = Enum.INT_HIWY;
+    static final int INT_HKEG = Enum.INT_HKEG;
+    static final int INT_HKRY = Enum.INT_HKRY;
+    static final int INT_HLDH = Enum.INT_HLDH;
+    static final int INT_HLFM = Enum.INT_HLFM;
+    static final int INT_HLPK = Enum.INT_HLPK;
+    static final int INT_HLRI = Enum.INT_HLRI;
+    static final int INT_HLWD = Enum.INT_HLWD;
+    static final int INT_HM = Enum.INT_HM;
+    static final int INT_HMDE = Enum.INT_HMDE;
+    static final int INT_HME = Enum.INT_HME;
+    static final int INT_HMST = Enum.INT_HMST;
+    static final int INT_HMVE = Enum.INT_HMVE;
+    static final int INT_HNLC = Enum.INT_HNLC;
+    static final int INT_HNMR = Enum.INT_HNMR;
+    static final int INT_HNSO = Enum.INT_HNSO;
+    static final int INT_HOAN = Enum.INT_HOAN;
+    static final int INT_HOBA = Enum.INT_HOBA;
+    static final int INT_HOBB = Enum.INT_HOBB;
+    static final int INT_HOBO = Enum.INT_HOBO;
+    static final int INT_HODA = Enum.INT_HODA;
+    static final int INT_HODG = Enum.INT_HODG;
+    static final int INT_HOF = Enum.INT_HOF;
+    static final int INT_HOIN = Enum.INT_HOIN;
+    static final int INT_HOL = Enum.INT_HOL;
+    static final int INT_HOLA = Enum.INT_HOLA;
+    static final int INT_HOLD = Enum.INT_HOLD;
+    static final int INT_HOLE = Enum.INT_HOLE;
+    static final int INT_HOLH = Enum.INT_HOLH;
+    static final int INT_HOLI = Enum.INT_HOLI;
+    static final int INT_HOLK = Enum.INT_HOLK;
+    static final int INT_HOLL = Enum.INT_HOLL;
+    static final int INT_HOLM = Enum.INT_HOLM;
+    static final int INT_HOLN = Enum.INT_HOLN;
+    static final int INT_HOLO = Enum.INT_HOLO;
+    static final int INT_HOLP = Enum.INT_HOLP;
+    static final int INT_HOLR = Enum.INT_HOLR;
+    static final int INT_HOLS = Enum.INT_HOLS;
+    static final int INT_HOLT = Enum.INT_HOLT;
+    static final int INT_HOLU = Enum.INT_HOLU;
+    static final int INT_HOLV = Enum.INT_HOLV;
+    static final int INT_HOLW = Enum.INT_HOLW;
+    static final int INT_HOLY = Enum.INT_HOLY;
+    static final int INT_HOLZ = Enum.INT_HOLZ;
+    static final int INT_HOMA = Enum.INT_HOMA;
+    static final int INT_HOMD = Enum.INT_HOMD;
+    static final int INT_HOME = Enum.INT_HOME;
+    static final int INT_HOML = Enum.INT_HOML;
+    static final int INT_HOMM = Enum.INT_HOMM;
+    static final int INT_HOMS = Enum.INT_HOMS;
+    static final int INT_HOND = Enum.INT_HOND;
+    static final int INT_HONE = Enum.INT_HONE;
+    static final int INT_HONG = Enum.INT_HONG;
+    static final int INT_HONO = Enum.INT_HONO;
+    static final int INT_HOOP = Enum.INT_HOOP;
+    static final int INT_HOOS = Enum.INT_HOOS;
+    static final int INT_HOP = Enum.INT_HOP;
+    static final int INT_HOPK = Enum.INT_HOPK;
+    static final int INT_HORC = Enum.INT_HORC;
+    static final int INT_HORI = Enum.INT_HORI;
+    static final int INT_HORN = Enum.INT_HORN;
+    static final int INT_HORS = Enum.INT_HORS;
+    static final int INT_HORT = Enum.INT_HORT;
+    static final int INT_HORX = Enum.INT_HORX;
+    static final int INT_HORZ = Enum.INT_HORZ;
+    static final int INT_HOTC = Enum.INT_HOTC;
+    static final int INT_HOUE = Enum.INT_HOUE;
+    static final int INT_HOUF = Enum.INT_HOUF;
+    static final int INT_HOUG = Enum.INT_HOUG;
+    static final int INT_HOUH = Enum.INT_HOUH;
+    static final int INT_HOWA = Enum.INT_HOWA;
+    static final int INT_HOWC = Enum.INT_HOWC;
+    static final int INT_HOWD = Enum.INT_HOWD;
+    static final int INT_HOWE = Enum.INT_HOWE;
+    static final int INT_HOWL = Enum.INT_HOWL;
+    static final int INT_HOWR = Enum.INT_HOWR;
+    static final int INT_HOWS = Enum.INT_HOWS;
+    static final int INT_HRBN = Enum.INT_HRBN;
+    static final int INT_HRG = Enum.INT_HRG;
+    static final int INT_HRLL = Enum.INT_HRLL;
+    static final int INT_HRRM = Enum.INT_HRRM;
+    static final int INT_HRSE = Enum.INT_HRSE;
+    static final int INT_HRTG = Enum.INT_HRTG;
+    static final int INT_HRTI = Enum.INT_HRTI;
+    static final int INT_HRTK = Enum.INT_HRTK;
+    static final int INT_HRTL = Enum.INT_HRTL;
+    static final int INT_HRTN = Enum.INT_HRTN;
+    static final int INT_HRTO = Enum.INT_HRTO;
+    static final int INT_HRTR = Enum.INT_HRTR;
+    static final int INT_HRVY = Enum.INT_HRVY;
+    static final int INT_HSKE = Enum.INT_HSKE;
+    static final int INT_HSKY = Enum.INT_HSKY;
+    static final int INT_HSMI = Enum.INT_HSMI;
+    static final int INT_HSQV = Enum.INT_HSQV;
+    static final int INT_HTCH = Enum.INT_HTCH;
+    static final int INT_HUBE = Enum.INT_HUBE;
+    static final int INT_HUDS = Enum.INT_HUDS;
+    static final int INT_HUFF = Enum.INT_HUFF;
+    static final int INT_HUFY = Enum.INT_HUFY;
+    static final int INT_HUGH = Enum.INT_HUGH;
+    static final int INT_HULL = Enum.INT_HULL;
+    static final int INT_HUMB = Enum.INT_HUMB;
+    static final int INT_HUME = Enum.INT_HUME;
+    static final int INT_HUML = Enum.INT_HUML;
+    static final int INT_HUMM = Enum.INT_HUMM;
+    static final int INT_HUMS = Enum.INT_HUMS;
+    static final int INT_HUNE = Enum.INT_HUNE;
+    static final int INT_HUNG = Enum.INT_HUNG;
+    static final int INT_HUNM = Enum.INT_HUNM;
+    static final int INT_HUNT = Enum.INT_HUNT;
+    static final int INT_HUPM = Enum.INT_HUPM;
+    static final int INT_HURO = Enum.INT_HURO;
+    static final int INT_HURS = Enum.INT_HURS;
+    static final int INT_HURU = Enum.INT_HURU;
+    static final int INT_HUSA = Enum.INT_HUSA;
+    static final int INT_HUSF = Enum.INT_HUSF;
+    static final int INT_HUSK = Enum.INT_HUSK;
+    static final int INT_HUSQ = Enum.INT_HUSQ;
+    static final int INT_HUSS = Enum.INT_HUSS;
+    static final int INT_HUST = Enum.INT_HUST;
+    static final int INT_HUTC = Enum.INT_HUTC;
+    static final int INT_HUTR = Enum.INT_HUTR;
+    static final int INT_HUWA = Enum.INT_HUWA;
+    static final int INT_HWKT = Enum.INT_HWKT;
+    static final int INT_HWMC = Enum.INT_HWMC;
+    static final int INT_HWRO = Enum.INT_HWRO;
+    static final int INT_HYCA = Enum.INT_HYCA;
+    static final int INT_HYDE = Enum.INT_HYDE;
+    static final int INT_HYDY = Enum.INT_HYDY;
+    static final int INT_HYLD = Enum.INT_HYLD;
+    static final int INT_HYLN = Enum.INT_HYLN;
+    static final int INT_HYLT = Enum.INT_HYLT;
+    static final int INT_HYOS = Enum.INT_HYOS;
+    static final int INT_HYSH = Enum.INT_HYSH;
+    static final int INT_HYST = Enum.INT_HYST;
+    static final int INT_HYTK = Enum.INT_HYTK;
+    static final int INT_HYTR = Enum.INT_HYTR;
+    static final int INT_HYUN = Enum.INT_HYUN;
+    static final int INT_IAME = Enum.INT_IAME;
+    static final int INT_IBEN = Enum.INT_IBEN;
+    static final int INT_ICL = Enum.INT_ICL;
+    static final int INT_ICRP = Enum.INT_ICRP;
+    static final int INT_IDEC = Enum.INT_IDEC;
+    static final int INT_IDEL = Enum.INT_IDEL;
+    static final int INT_IDLE = Enum.INT_IDLE;
+    static final int INT_IHHI = Enum.INT_IHHI;
+    static final int INT_IHTM = Enum.INT_IHTM;
+    static final int INT_IJBD = Enum.INT_IJBD;
+    static final int INT_IKA = Enum.INT_IKA;
+    static final int INT_IMCO = Enum.INT_IMCO;
+    static final int INT_IMPA = Enum.INT_IMPA;
+    static final int INT_IMPB = Enum.INT_IMPB;
+    static final int INT_IMPD = Enum.INT_IMPD;
+    static final int INT_IMPE = Enum.INT_IMPE;
+    static final int INT_IMPI = Enum.INT_IMPI;
+    static final int INT_IND = Enum.INT_IND;
+    static final int INT_INDA = Enum.INT_INDA;
+    static final int INT_INDE = Enum.INT_INDE;
+    static final int INT_INDI = Enum.INT_INDI;
+    static final int INT_INDM = Enum.INT_INDM;
+    static final int INT_INDN = Enum.INT_INDN;
+    static final int INT_INDP = Enum.INT_INDP;
+    static final int INT_INDU = Enum.INT_INDU;
+    static final int INT_INFI = Enum.INT_INFI;
+    static final int INT_INGE = Enum.INT_INGE;
+    static final int INT_INGL = Enum.INT_INGL;
+    static final int INT_INGR = Enum.INT_INGR;
+    static final int INT_INGS = Enum.INT_INGS;
+    static final int INT_INGT = Enum.INT_INGT;
+    static final int INT_INLA = Enum.INT_INLA;
+    static final int INT_INLI = Enum.INT_INLI;
+    static final int INT_INMA = Enum.INT_INMA;
+    static final int INT_INMC = Enum.INT_INMC;
+    static final int INT_INME = Enum.INT_INME;
+    static final int INT_INMN = Enum.INT_INMN;
+    static final int INT_INNO = Enum.INT_INNO;
+    static final int INT_INOR = Enum.INT_INOR;
+    static final int INT_INRP = Enum.INT_INRP;
+    static final int INT_INSL = Enum.INT_INSL;
+    static final int INT_INTC = Enum.INT_INTC;
+    static final int INT_INTE = Enum.INT_INTE;
+    static final int INT_INTG = Enum.INT_INTG;
+    static final int INT_INTI = Enum.INT_INTI;
+    static final int INT_INTL = Enum.INT_INTL;
+    static final int INT_INTM = Enum.INT_INTM;
+    static final int INT_INTP = Enum.INT_INTP;
+    static final int INT_INTR = Enum.INT_INTR;
+    static final int INT_INTS = Enum.INT_INTS;
+    static final int INT_INTT = Enum.INT_INTT;
+    static final int INT_INVA = Enum.INT_INVA;
+    static final int INT_INVO = Enum.INT_INVO;
+    static final int INT_IOMO = Enum.INT_IOMO;
+    static final int INT_IONI = Enum.INT_IONI;
+    static final int INT_IOWA = Enum.INT_IOWA;
+    static final int INT_IPSC = Enum.INT_IPSC;
+    static final int INT_IRBK = Enum.INT_IRBK;
+    static final int INT_IRD = Enum.INT_IRD;
+    static final int INT_IRDG = Enum.INT_IRDG;
+    static final int INT_ISEI = Enum.INT_ISEI;
+    static final int INT_ISET = Enum.INT_ISET;
+    static final int INT_ISLA = Enum.INT_ISLA;
+    static final int INT_ISO = Enum.INT_ISO;
+    static final int INT_ISU = Enum.INT_ISU;
+    static final int INT_ITAF = Enum.INT_ITAF;
+    static final int INT_ITAI = Enum.INT_ITAI;
+    static final int INT_ITAL = Enum.INT_ITAL;
+    static final int INT_ITAS = Enum.INT_ITAS;
+    static final int INT_ITAT = Enum.INT_ITAT;
+    static final int INT_ITAV = Enum.INT_ITAV;
+    static final int INT_ITLR = Enum.INT_ITLR;
+    static final int INT_ITOM = Enum.INT_ITOM;
+    static final int INT_IVEC = Enum.INT_IVEC;
+    static final int INT_JAC = Enum.INT_JAC;
+    static final int INT_JACC = Enum.INT_JACC;
+    static final int INT_JACK = Enum.INT_JACK;
+    static final int INT_JACL = Enum.INT_JACL;
+    static final int INT_JACO = Enum.INT_JACO;
+    static final int INT_JACS = Enum.INT_JACS;
+    static final int INT_JACT = Enum.INT_JACT;
+    static final int INT_JAEG = Enum.INT_JAEG;
+    static final int INT_JAGU = Enum.INT_JAGU;
+    static final int INT_JAHN = Enum.INT_JAHN;
+    static final int INT_JALL = Enum.INT_JALL;
+    static final int INT_JAMA = Enum.INT_JAMA;
+    static final int INT_JAMB = Enum.INT_JAMB;
+    static final int INT_JAMC = Enum.INT_JAMC;
+    static final int INT_JAMI = Enum.INT_JAMI;
+    static final int INT_JAMM = Enum.INT_JAMM;
+    static final int INT_JANT = Enum.INT_JANT;
+    static final int INT_JARC = Enum.INT_JARC;
+    static final int INT_JASO = Enum.INT_JASO;
+    static final int INT_JAWA = Enum.INT_JAWA;
+    static final int INT_JAY = Enum.INT_JAY;
+    static final int INT_JAYD = Enum.INT_JAYD;
+    static final int INT_JAYK = Enum.INT_JAYK;
+    static final int INT_JAYS = Enum.INT_JAYS;
+    static final int INT_JAYW = Enum.INT_JAYW;
+    static final int INT_JB = Enum.INT_JB;
+    static final int INT_JBEN = Enum.INT_JBEN;
+    static final int INT_JCBE = Enum.INT_JCBE;
+    static final int INT_JDER = Enum.INT_JDER;
+    static final int INT_JDHS = Enum.INT_JDHS;
+    static final int INT_JECR = Enum.INT_JECR;
+    static final int INT_JEEP = Enum.INT_JEEP;
+    static final int INT_JEHM = Enum.INT_JEHM;
+    static final int INT_JENE = Enum.INT_JENE;
+    static final int INT_JENN = Enum.INT_JENN;
+    static final int INT_JENS = Enum.INT_JENS;
+    static final int INT_JEP = Enum.INT_JEP;
+    static final int INT_JERA = Enum.INT_JERA;
+    static final int INT_JERR = Enum.INT_JERR;
+    static final int INT_JERS = Enum.INT_JERS;
+    static final int INT_JERW = Enum.INT_JERW;
+    static final int INT_JETM = Enum.INT_JETM;
+    static final int INT_JETS = Enum.INT_JETS;
+    static final int INT_JEWE = Enum.INT_JEWE;
+    static final int INT_JFW = Enum.INT_JFW;
+    static final int INT_JHNS = Enum.INT_JHNS;
+    static final int INT_JIAN = Enum.INT_JIAN;
+    static final int INT_JIMA = Enum.INT_JIMA;
+    static final int INT_JIMD = Enum.INT_JIMD;
+    static final int INT_JIMG = Enum.INT_JIMG;
+    static final int INT_JIMS = Enum.INT_JIMS;
+    static final int INT_JIND = Enum.INT_JIND;
+    static final int INT_JINS = Enum.INT_JINS;
+    static final int INT_JJ = Enum.INT_JJ;
+    static final int INT_JJJ = Enum.INT_JJJ;
+    static final int INT_JJNE = Enum.INT_JJNE;
+    static final int INT_JJT = Enum.INT_JJT;
+    static final int INT_JJTM = Enum.INT_JJTM;
+    static final int INT_JLGI = Enum.INT_JLGI;
+    static final int INT_JLM = Enum.INT_JLM;
+    static final int INT_JLTL = Enum.INT_JLTL;
+    static final int INT_JMCY = Enum.INT_JMCY;
+    static final int INT_JMGL = Enum.INT_JMGL;
+    static final int INT_JMS = Enum.INT_JMS;
+    static final int INT_JOBS = Enum.INT_JOBS;
+    static final int INT_JOES = Enum.INT_JOES;
+    static final int INT_JOEW = Enum.INT_JOEW;
+    static final int INT_JOHN = Enum.INT_JOHN;
+    static final int INT_JOHO = Enum.INT_JOHO;
+    static final int INT_JOHS = Enum.INT_JOHS;
+    static final int INT_JOLI = Enum.INT_JOLI;
+    static final int INT_JOMA = Enum.INT_JOMA;
+    static final int INT_JONS = Enum.INT_JONS;
+    static final int INT_JOPL = Enum.INT_JOPL;
+    static final int INT_JORG = Enum.INT_JORG;
+    static final int INT_JOSH = Enum.INT_JOSH;
+    static final int INT_JOSO = Enum.INT_JOSO;
+    static final int INT_JOUR = Enum.INT_JOUR;
+    static final int INT_JOWE = Enum.INT_JOWE;
+    static final int INT_JOYC = Enum.INT_JOYC;
+    static final int INT_JPTR = Enum.INT_JPTR;
+    static final int INT_JRDN = Enum.INT_JRDN;
+    static final int INT_JRMC = Enum.INT_JRMC;
+    static final int INT_JROD = Enum.INT_JROD;
+    static final int INT_JSMH = Enum.INT_JSMH;
+    static final int INT_JSWP = Enum.INT_JSWP;
+    static final int INT_JTIL = Enum.INT_JTIL;
+    static final int INT_JUDE = Enum.INT_JUDE;
+    static final int INT_JUIL = Enum.INT_JUIL;
+    static final int INT_JUNR = Enum.INT_JUNR;
+    static final int INT_JW = Enum.INT_JW;
+    static final int INT_JWBC = Enum.INT_JWBC;
+    static final int INT_JWSS = Enum.INT_JWSS;
+    static final int INT_KAES = Enum.INT_KAES;
+    static final int INT_KAIS = Enum.INT_KAIS;
+    static final int INT_KAJU = Enum.INT_KAJU;
+    static final int INT_KAKI = Enum.INT_KAKI;
+    static final int INT_KAL = Enum.INT_KAL;
+    static final int INT_KALL = Enum.INT_KALL;
+    static final int INT_KALY = Enum.INT_KALY;
+    static final int INT_KAM = Enum.INT_KAM;
+    static final int INT_KAMA = Enum.INT_KAMA;
+    static final int INT_KAMI = Enum.INT_KAMI;
+    static final int INT_KAMP = Enum.INT_KAMP;
+    static final int INT_KANE = Enum.INT_KANE;
+    static final int INT_KANH = Enum.INT_KANH;
+    static final int INT_KANN = Enum.INT_KANN;
+    static final int INT_KANZ = Enum.INT_KANZ;
+    static final int INT_KARA = Enum.INT_KARA;
+    static final int INT_KARD = Enum.INT_KARD;
+    static final int INT_KARI = Enum.INT_KARI;
+    static final int INT_KARO = Enum.INT_KARO;
+    static final int INT_KARR = Enum.INT_KARR;
+    static final int INT_KARS = Enum.INT_KARS;
+    static final int INT_KART = Enum.INT_KART;
+    static final int INT_KASE = Enum.INT_KASE;
+    static final int INT_KASS = Enum.INT_KASS;
+    static final int INT_KAST = Enum.INT_KAST;
+    static final int INT_KATL = Enum.INT_KATL;
+    static final int INT_KATO = Enum.INT_KATO;
+    static final int INT_KAUF = Enum.INT_KAUF;
+    static final int INT_KAWK = Enum.INT_KAWK;
+    static final int INT_KAYD = Enum.INT_KAYD;
+    static final int INT_KAYF = Enum.INT_KAYF;
+    static final int INT_KAYO = Enum.INT_KAYO;
+    static final int INT_KAYW = Enum.INT_KAYW;
+    static final int INT_KAZU = Enum.INT_KAZU;
+    static final int INT_KBAR = Enum.INT_KBAR;
+    static final int INT_KBHC = Enum.INT_KBHC;
+    static final int INT_KCCF = Enum.INT_KCCF;
+    static final int INT_KDMA = Enum.INT_KDMA;
+    static final int INT_KEAR = Enum.INT_KEAR;
+    static final int INT_KELE = Enum.INT_KELE;
+    static final int INT_KELL = Enum.INT_KELL;
+    static final int INT_KELO = Enum.INT_KELO;
+    static final int INT_KELS = Enum.INT_KELS;
+    static final int INT_KEMP = Enum.INT_KEMP;
+    static final int INT_KEN = Enum.INT_KEN;
+    static final int INT_KENA = Enum.INT_KENA;
+    static final int INT_KENC = Enum.INT_KENC;
+    static final int INT_KENM = Enum.INT_KENM;
+    static final int INT_KENN = Enum.INT_KENN;
+    static final int INT_KENO = Enum.INT_KENO;
+    static final int INT_KENS = Enum.INT_KENS;
+    static final int INT_KENT = Enum.INT_KENT;
+    static final int INT_KENW = Enum.INT_KENW;
+    static final int INT_KENY = Enum.INT_KENY;
+    static final int INT_KEPT = Enum.INT_KEPT;
+    static final int INT_KERR = Enum.INT_KERR;
+    static final int INT_KESL = Enum.INT_KESL;
+    static final int INT_KEYI = Enum.INT_KEYI;
+    static final int INT_KEYO = Enum.INT_KEYO;
+    static final int INT_KEYS = Enum.INT_KEYS;
+    static final int INT_KGHY = Enum.INT_KGHY;
+    static final int INT_KGMF = Enum.INT_KGMF;
+    static final int INT_KIA = Enum.INT_KIA;
+    static final int INT_KIBB = Enum.INT_KIBB;
+    static final int INT_KIDR = Enum.INT_KIDR;
+    static final int INT_KIEF = Enum.INT_KIEF;
+    static final int INT_KILG = Enum.INT_KILG;
+    static final int INT_KILL = Enum.INT_KILL;
+    static final int INT_KIMI = Enum.INT_KIMI;
+    static final int INT_KINA = Enum.INT_KINA;
+    static final int INT_KINC = Enum.INT_KINC;
+    static final int INT_KIND = Enum.INT_KIND;
+    static final int INT_KINE = Enum.INT_KINE;
+    static final int INT_KINF = Enum.INT_KINF;
+    static final int INT_KINS = Enum.INT_KINS;
+    static final int INT_KINZ = Enum.INT_KINZ;
+    static final int INT_KIPC = Enum.INT_KIPC;
+    static final int INT_KISM = Enum.INT_KISM;
+    static final int INT_KISS = Enum.INT_KISS;
+    static final int INT_KIT = Enum.INT_KIT;
+    static final int INT_KITK = Enum.INT_KITK;
+    static final int INT_KITM = Enum.INT_KITM;
+    static final int INT_KLAE = Enum.INT_KLAE;
+    static final int INT_KLAS = Enum.INT_KLAS;
+    static final int INT_KLCL = Enum.INT_KLCL;
+    static final int INT_KLEI = Enum.INT_KLEI;
+    static final int INT_KLI = Enum.INT_KLI;
+    static final int INT_KLIN = Enum.INT_KLIN;
+    static final int INT_KLMK = Enum.INT_KLMK;
+    static final int INT_KMAR = Enum.INT_KMAR;
+    static final int INT_KMCU = Enum.INT_KMCU;
+    static final int INT_KMGI = Enum.INT_KMGI;
+    static final int INT_KMMC = Enum.INT_KMMC;
+    static final int INT_KMNM = Enum.INT_KMNM;
+    static final int INT_KMSR = Enum.INT_KMSR;
+    static final int INT_KNBR = Enum.INT_KNBR;
+    static final int INT_KNC = Enum.INT_KNC;
+    static final int INT_KNG = Enum.INT_KNG;
+    static final int INT_KNGH = Enum.INT_KNGH;
+    static final int INT_KNGS = Enum.INT_KNGS;
+    static final int INT_KNIG = Enum.INT_KNIG;
+    static final int INT_KNLH = Enum.INT_KNLH;
+    static final int INT_KNNW = Enum.INT_KNNW;
+    static final int INT_KNOW = Enum.INT_KNOW;
+    static final int INT_KNOX = Enum.INT_KNOX;
+    static final int INT_KNTC = Enum.INT_KNTC;
+    static final int INT_KNTI = Enum.INT_KNTI;
+    static final int INT_KODI = Enum.INT_KODI;
+    static final int INT_KOEH = Enum.INT_KOEH;
+    static final int INT_KOEN = Enum.INT_KOEN;
+    static final int INT_KOFF = Enum.INT_KOFF;
+    static final int INT_KOHL = Enum.INT_KOHL;
+    static final int INT_KOLB = Enum.INT_KOLB;
+    static final int INT_KOMA = Enum.INT_KOMA;
+    static final int INT_KOMC = Enum.INT_KOMC;
+    static final int INT_KOME = Enum.INT_KOME;
+    static final int INT_KOMF = Enum.INT_KOMF;
+    static final int INT_KOMP = Enum.INT_KOMP;
+    static final int INT_KOMR = Enum.INT_KOMR;
+    static final int INT_KONK = Enum.INT_KONK;
+    static final int INT_KONT = Enum.INT_KONT;
+    static final int INT_KOOL = Enum.INT_KOOL;
+    static final int INT_KORY = Enum.INT_KORY;
+    static final int INT_KOSC = Enum.INT_KOSC;
+    static final int INT_KOST = Enum.INT_KOST;
+    static final int INT_KOTR = Enum.INT_KOTR;
+    static final int INT_KOUN = Enum.INT_KOUN;
+    static final int INT_KOVA = Enum.INT_KOVA;
+    static final int INT_KOZY = Enum.INT_KOZY;
+    static final int INT_KPRC = Enum.INT_KPRC;
+    static final int INT_KRAE = Enum.INT_KRAE;
+    static final int INT_KRAU = Enum.INT_KRAU;
+    static final int INT_KRDL = Enum.INT_KRDL;
+    static final int INT_KRGO = Enum.INT_KRGO;
+    static final int INT_KRIS = Enum.INT_KRIS;
+    static final int INT_KROM = Enum.INT_KROM;
+    static final int INT_KROP = Enum.INT_KROP;
+    static final int INT_KROS = Enum.INT_KROS;
+    static final int INT_KROW = Enum.INT_KROW;
+    static final int INT_KRST = Enum.INT_KRST;
+    static final int INT_KSEA = Enum.INT_KSEA;
+    static final int INT_KTM = Enum.INT_KTM;
+    static final int INT_KUBO = Enum.INT_KUBO;
+    static final int INT_KUHN = Enum.INT_KUHN;
+    static final int INT_KURM = Enum.INT_KURM;
+    static final int INT_KURT = Enum.INT_KURT;
+    static final int INT_KUST = Enum.INT_KUST;
+    static final int INT_KUTK = Enum.INT_KUTK;
+    static final int INT_KUTZ = Enum.INT_KUTZ;
+    static final int INT_KW = Enum.INT_KW;
+    static final int INT_KWDT = Enum.INT_KWDT;
+    static final int INT_KWKT = Enum.INT_KWKT;
+    static final int INT_KWMH = Enum.INT_KWMH;
+    static final int INT_KWNS = Enum.INT_KWNS;
+    static final int INT_KYMC = Enum.INT_KYMC;
+    static final int INT_KYRV = Enum.INT_KYRV;
+    static final int INT_LABE = Enum.INT_LABE;
+    static final int INT_LACH = Enum.INT_LACH;
+    static final int INT_LACR = Enum.INT_LACR;
+    static final int INT_LACY = Enum.INT_LACY;
+    static final int INT_LADA = Enum.INT_LADA;
+    static final int INT_LAFR = Enum.INT_LAFR;
+    static final int INT_LAFY = Enum.INT_LAFY;
+    static final int INT_LAGO = Enum.INT_LAGO;
+    static final int INT_LAGU = Enum.INT_LAGU;
+    static final int INT_LAKE = Enum.INT_LAKE;
+    static final int INT_LAKL = Enum.INT_LAKL;
+    static final int INT_LALL = Enum.INT_LALL;
+    static final int INT_LAMB = Enum.INT_LAMB;
+    static final int INT_LAMO = Enum.INT_LAMO;
+    static final int INT_LAN = Enum.INT_LAN;
+    static final int INT_LANA = Enum.INT_LANA;
+    static final int INT_LANC = Enum.INT_LANC;
+    static final int INT_LAND = Enum.INT_LAND;
+    static final int INT_LANE = Enum.INT_LANE;
+    static final int INT_LANG = Enum.INT_LANG;
+    static final int INT_LANH = Enum.INT_LANH;
+    static final int INT_LANL = Enum.INT_LANL;
+    static final int INT_LANM = Enum.INT_LANM;
+    static final int INT_LANP = Enum.INT_LANP;
+    static final int INT_LANR = Enum.INT_LANR;
+    static final int INT_LANS = Enum.INT_LANS;
+    static final int INT_LANT = Enum.INT_LANT;
+    static final int INT_LANU = Enum.INT_LANU;
+    static final int INT_LAOT = Enum.INT_LAOT;
+    static final int INT_LARA = Enum.INT_LARA;
+    static final int INT_LARK = Enum.INT_LARK;
+    static final int INT_LARN = Enum.INT_LARN;
+    static final int INT_LARO = Enum.INT_LARO;
+    static final int INT_LARS = Enum.INT_LARS;
+    static final int INT_LARV = Enum.INT_LARV;
+    static final int INT_LASA = Enum.INT_LASA;
+    static final int INT_LASE = Enum.INT_LASE;
+    static final int INT_LASH = Enum.INT_LASH;
+    static final int INT_LASL = Enum.INT_LASL;
+    static final int INT_LAVE = Enum.INT_LAVE;
+    static final int INT_LAWC = Enum.INT_LAWC;
+    static final int INT_LAWN = Enum.INT_LAWN;
+    static final int INT_LAWR = Enum.INT_LAWR;
+    static final int INT_LAYO = Enum.INT_LAYO;
+    static final int INT_LAYT = Enum.INT_LAYT;
+    static final int INT_LAZE = Enum.INT_LAZE;
+    static final int INT_LAZJ = Enum.INT_LAZJ;
+    static final int INT_LBAU = Enum.INT_LBAU;
+    static final int INT_LBHR = Enum.INT_LBHR;
+    static final int INT_LBOS = Enum.INT_LBOS;
+    static final int INT_LBOY = Enum.INT_LBOY;
+    static final int INT_LBT = Enum.INT_LBT;
+    static final int INT_LBTY = Enum.INT_LBTY;
+    static final int INT_LCHG = Enum.INT_LCHG;
+    static final int INT_LCRT = Enum.INT_LCRT;
+    static final int INT_LD = Enum.INT_LD;
+    static final int INT_LDAZ = Enum.INT_LDAZ;
+    static final int INT_LDMS = Enum.INT_LDMS;
+    static final int INT_LDMX = Enum.INT_LDMX;
+    static final int INT_LDTC = Enum.INT_LDTC;
+    static final int INT_LDTL = Enum.INT_LDTL;
+    static final int INT_LEAD = Enum.INT_LEAD;
+    static final int INT_LEAF = Enum.INT_LEAF;
+    static final int INT_LEAR = Enum.INT_LEAR;
+    static final int INT_LECH = Enum.INT_LECH;
+    static final int INT_LECT = Enum.INT_LECT;
+    static final int INT_LEDW = Enum.INT_LEDW;
+    static final int INT_LEE = Enum.INT_LEE;
+    static final int INT_LEEC = Enum.INT_LEEC;
+    static final int INT_LEEN = Enum.INT_LEEN;
+    static final int INT_LEER = Enum.INT_LEER;
+    static final int INT_LEES = Enum.INT_LEES;
+    static final int INT_LEIR = Enum.INT_LEIR;
+    static final int INT_LEIS = Enum.INT_LEIS;
+    static final int INT_LEIT = Enum.INT_LEIT;
+    static final int INT_LEIU = Enum.INT_LEIU;
+    static final int INT_LEKT = Enum.INT_LEKT;
+    static final int INT_LELA = Enum.INT_LELA;
+    static final int INT_LELY = Enum.INT_LELY;
+    static final int INT_LEM = Enum.INT_LEM;
+    static final int INT_LEMC = Enum.INT_LEMC;
+    static final int INT_LENT = Enum.INT_LENT;
+    static final int INT_LEON = Enum.INT_LEON;
+    static final int INT_LERY = Enum.INT_LERY;
+    static final int INT_LESC = Enum.INT_LESC;
+    static final int INT_LESR = Enum.INT_LESR;
+    static final int INT_LETO = Enum.INT_LETO;
+    static final int INT_LEVC = Enum.INT_LEVC;
+    static final int INT_LEVI = Enum.INT_LEVI;
+    static final int INT_LEWA = Enum.INT_LEWA;
+    static final int INT_LEWI = Enum.INT_LEWI;
+    static final int INT_LEXS = Enum.INT_LEXS;
+    static final int INT_LEYL = Enum.INT_LEYL;
+    static final int INT_LFET = Enum.INT_LFET;
+    static final int INT_LFTL = Enum.INT_LFTL;
+    static final int INT_LFZA = Enum.INT_LFZA;
+    static final int INT_LG = Enum.INT_LG;
+    static final int INT_LGCH = Enum.INT_LGCH;
+    static final int INT_LGND = Enum.INT_LGND;
+    static final int INT_LHRN = Enum.INT_LHRN;
+    static final int INT_LIBA = Enum.INT_LIBA;
+    static final int INT_LIBE = Enum.INT_LIBE;
+    static final int INT_LIBH = Enum.INT_LIBH;
+    static final int INT_LIBY = Enum.INT_LIBY;
+    static final int INT_LICH = Enum.INT_LICH;
+    static final int INT_LICO = Enum.INT_LICO;
+    static final int INT_LIEB = Enum.INT_LIEB;
+    static final int INT_LIFM = Enum.INT_LIFM;
+    static final int INT_LIGC = Enum.INT_LIGC;
+    static final int INT_LIGH = Enum.INT_LIGH;
+    static final int INT_LIGP = Enum.INT_LIGP;
+    static final int INT_LIGT = Enum.INT_LIGT;
+    static final int INT_LILA = Enum.INT_LILA;
+    static final int INT_LILC = Enum.INT_LILC;
+    static final int INT_LILL = Enum.INT_LILL;
+    static final int INT_LILN = Enum.INT_LILN;
+    static final int INT_LILZ = Enum.INT_LILZ;
+    static final int INT_LINC = Enum.INT_LINC;
+    static final int INT_LIND = Enum.INT_LIND;
+    static final int INT_LINF = Enum.INT_LINF;
+    static final int INT_LINH = Enum.INT_LINH;
+    static final int INT_LINM = Enum.INT_LINM;
+    static final int INT_LINP = Enum.INT_LINP;
+    static final int INT_LINT = Enum.INT_LINT;
+    static final int INT_LINV = Enum.INT_LINV;
+    static final int INT_LINW = Enum.INT_LINW;
+    static final int INT_LIOL = Enum.INT_LIOL;
+    static final int INT_LION = Enum.INT_LION;
+    static final int INT_LIPR = Enum.INT_LIPR;
+    static final int INT_LIQU = Enum.INT_LIQU;
+    static final int INT_LISL = Enum.INT_LISL;
+    static final int INT_LITC = Enum.INT_LITC;
+    static final int INT_LITD = Enum.INT_LITD;
+    static final int INT_LITK = Enum.INT_LITK;
+    static final int INT_LITP = Enum.INT_LITP;
+    static final int INT_LITS = Enum.INT_LITS;
+    static final int INT_LITT = Enum.INT_LITT;
+    static final int INT_LKWD = Enum.INT_LKWD;
+    static final int INT_LLOD = Enum.INT_LLOD;
+    static final int INT_LLOY = Enum.INT_LLOY;
+    static final int INT_LLTR = Enum.INT_LLTR;
+    static final int INT_LMC = Enum.INT_LMC;
+    static final int INT_LMLC = Enum.INT_LMLC;
+    static final int INT_LMMC = Enum.INT_LMMC;
+    static final int INT_LNCE = Enum.INT_LNCE;
+    static final int INT_LNCI = Enum.INT_LNCI;
+    static final int INT_LNCO = Enum.INT_LNCO;
+    static final int INT_LNDN = Enum.INT_LNDN;
+    static final int INT_LNDR = Enum.INT_LNDR;
+    static final int INT_LNEW = Enum.INT_LNEW;
+    static final int INT_LNGH = Enum.INT_LNGH;
+    static final int INT_LNPD = Enum.INT_LNPD;
+    static final int INT_LNRD = Enum.INT_LNRD;
+    static final int INT_LNST = Enum.INT_LNST;
+    static final int INT_LNWF = Enum.INT_LNWF;
+    static final int INT_LOAD = Enum.INT_LOAD;
+    static final int INT_LOAK = Enum.INT_LOAK;
+    static final int INT_LOCK = Enum.INT_LOCK;
+    static final int INT_LOCO = Enum.INT_LOCO;
+    static final int INT_LODA = Enum.INT_LODA;
+    static final int INT_LODC = Enum.INT_LODC;
+    static final int INT_LODE = Enum.INT_LODE;
+    static final int INT_LODZ = Enum.INT_LODZ;
+    static final int INT_LOFT = Enum.INT_LOFT;
+    static final int INT_LOGN = Enum.INT_LOGN;
+    static final int INT_LOLA = Enum.INT_LOLA;
+    static final int INT_LOM = Enum.INT_LOM;
+    static final int INT_LONA = Enum.INT_LONA;
+    static final int INT_LONB = Enum.INT_LONB;
+    static final int INT_LOND = Enum.INT_LOND;
+    static final int INT_LONE = Enum.INT_LONE;
+    static final int INT_LONF = Enum.INT_LONF;
+    static final int INT_LONG = Enum.INT_LONG;
+    static final int INT_LONH = Enum.INT_LONH;
+    static final int INT_LONL = Enum.INT_LONL;
+    static final int INT_LONN = Enum.INT_LONN;
+    static final int INT_LONR = Enum.INT_LONR;
+    static final int INT_LONT = Enum.INT_LONT;
+    static final int INT_LOOD = Enum.INT_LOOD;
+    static final int INT_LOPR = Enum.INT_LOPR;
+    static final int INT_LORA = Enum.INT_LORA;
+    static final int INT_LORK = Enum.INT_LORK;
+    static final int INT_LOTU = Enum.INT_LOTU;
+    static final int INT_LOVB = Enum.INT_LOVB;
+    static final int INT_LOVE = Enum.INT_LOVE;
+    static final int INT_LOWB = Enum.INT_LOWB;
+    static final int INT_LOWE = Enum.INT_LOWE;
+    static final int INT_LOWP = Enum.INT_LOWP;
+    static final int INT_LRNG = Enum.INT_LRNG;
+    static final int INT_LSKP = Enum.INT_LSKP;
+    static final int INT_LSLN = Enum.INT_LSLN;
+    static final int INT_LSUR = Enum.INT_LSUR;
+    static final int INT_LTCH = Enum.INT_LTCH;
+    static final int INT_LUBB = Enum.INT_LUBB;
+    static final int INT_LUED = Enum.INT_LUED;
+    static final int INT_LUFK = Enum.INT_LUFK;
+    static final int INT_LUGR = Enum.INT_LUGR;
+    static final int INT_LUKY = Enum.INT_LUKY;
+    static final int INT_LULL = Enum.INT_LULL;
+    static final int INT_LUND = Enum.INT_LUND;
+    static final int INT_LUNG = Enum.INT_LUNG;
+    static final int INT_LUVI = Enum.INT_LUVI;
+    static final int INT_LUXO = Enum.INT_LUXO;
+    static final int INT_LUXU = Enum.INT_LUXU;
+    static final int INT_LWLF = Enum.INT_LWLF;
+    static final int INT_LYMA = Enum.INT_LYMA;
+    static final int INT_LYNC = Enum.INT_LYNC;
+    static final int INT_LYNH = Enum.INT_LYNH;
+    static final int INT_LYNN = Enum.INT_LYNN;
+    static final int INT_LYNR = Enum.INT_LYNR;
+    static final int INT_MACA = Enum.INT_MACA;
+    static final int INT_MACC = Enum.INT_MACC;
+    static final int INT_MACD = Enum.INT_MACD;
+    static final int INT_MACG = Enum.INT_MACG;
+    static final int INT_MACK = Enum.INT_MACK;
+    static final int INT_MACL = Enum.INT_MACL;
+    static final int INT_MACO = Enum.INT_MACO;
+    static final int INT_MACR = Enum.INT_MACR;
+    static final int INT_MADD = Enum.INT_MADD;
+    static final int INT_MADM = Enum.INT_MADM;
+    static final int INT_MADR = Enum.INT_MADR;
+    static final int INT_MAEN = Enum.INT_MAEN;
+    static final int INT_MAGA = Enum.INT_MAGA;
+    static final int INT_MAGC = Enum.INT_MAGC;
+    static final int INT_MAGI = Enum.INT_MAGI;
+    static final int INT_MAGL = Enum.INT_MAGL;
+    static final int INT_MAGN = Enum.INT_MAGN;
+    static final int INT_MAGO = Enum.INT_MAGO;
+    static final int INT_MAGT = Enum.INT_MAGT;
+    static final int INT_MAHA = Enum.INT_MAHA;
+    static final int INT_MAHI = Enum.INT_MAHI;
+    static final int INT_MAHO = Enum.INT_MAHO;
+    static final int INT_MAI = Enum.INT_MAI;
+    static final int INT_MAIC = Enum.INT_MAIC;
+    static final int INT_MAIN = Enum.INT_MAIN;
+    static final int INT_MAIR = Enum.INT_MAIR;
+    static final int INT_MAJE = Enum.INT_MAJE;
+    static final int INT_MAJO = Enum.INT_MAJO;
+    static final int INT_MAJR = Enum.INT_MAJR;
+    static final int INT_MAKV = Enum.INT_MAKV;
+    static final int INT_MAL = Enum.INT_MAL;
+    static final int INT_MALA = Enum.INT_MALA;
+    static final int INT_MALE = Enum.INT_MALE;
+    static final int INT_MALH = Enum.INT_MALH;
+    static final int INT_MALI = Enum.INT_MALI;
+    static final int INT_MALL = Enum.INT_MALL;
+    static final int INT_MALN = Enum.INT_MALN;
+    static final int INT_MALO = Enum.INT_MALO;
+    static final int INT_MALR = Enum.INT_MALR;
+    static final int INT_MALS = Enum.INT_MALS;
+    static final int INT_MALY = Enum.INT_MALY;
+    static final int INT_MANA = Enum.INT_MANA;
+    static final int INT_MANC = Enum.INT_MANC;
+    static final int INT_MANE = Enum.INT_MANE;
+    static final int INT_MANG = Enum.INT_MANG;
+    static final int INT_MANI = Enum.INT_MANI;
+    static final int INT_MANK = Enum.INT_MANK;
+    static final int INT_MANM = Enum.INT_MANM;
+    static final int INT_MANN = Enum.INT_MANN;
+    static final int INT_MANO = Enum.INT_MANO;
+    static final int INT_MANT = Enum.INT_MANT;
+    static final int INT_MAPL = Enum.INT_MAPL;
+    static final int INT_MAPO = Enum.INT_MAPO;
+    static final int INT_MAQI = Enum.INT_MAQI;
+    static final int INT_MARA = Enum.INT_MARA;
+    static final int INT_MARB = Enum.INT_MARB;
+    static final int INT_MARC = Enum.INT_MARC;
+    static final int INT_MARF = Enum.INT_MARF;
+    static final int INT_MARG = Enum.INT_MARG;
+    static final int INT_MARH = Enum.INT_MARH;
+    static final int INT_MARI = Enum.INT_MARI;
+    static final int INT_MARK = Enum.INT_MARK;
+    static final int INT_MARL = Enum.INT_MARL;
+    static final int INT_MARM = Enum.INT_MARM;
+    static final int INT_MARN = Enum.INT_MARN;
+    static final int INT_MARO = Enum.INT_MARO;
+    static final int INT_MARP = Enum.INT_MARP;
+    static final int INT_MARQ = Enum.INT_MARQ;
+    static final int INT_MARR = Enum.INT_MARR;
+    static final int INT_MARS = Enum.INT_MARS;
+    static final int INT_MART = Enum.INT_MART;
+    static final int INT_MARU = Enum.INT_MARU;
+    static final int INT_MARV = Enum.INT_MARV;
+    static final int INT_MARW = Enum.INT_MARW;
+    static final int INT_MASC = Enum.INT_MASC;
+    static final int INT_MASE = Enum.INT_MASE;
+    static final int INT_MASG = Enum.INT_MASG;
+    static final int INT_MASL = Enum.INT_MASL;
+    static final int INT_MASN = Enum.INT_MASN;
+    static final int INT_MASR = Enum.INT_MASR;
+    static final int INT_MASS = Enum.INT_MASS;
+    static final int INT_MAST = Enum.INT_MAST;
+    static final int INT_MASV = Enum.INT_MASV;
+    static final int INT_MASY = Enum.INT_MASY;
+    static final int INT_MATA = Enum.INT_MATA;
+    static final int INT_MATE = Enum.INT_MATE;
+    static final int INT_MATL = Enum.INT_MATL;
+    static final int INT_MATR = Enum.INT_MATR;
+    static final int INT_MAUL = Enum.INT_MAUL;
+    static final int INT_MAUM = Enum.INT_MAUM;
+    static final int INT_MAUR = Enum.INT_MAUR;
+    static final int INT_MAV = Enum.INT_MAV;
+    static final int INT_MAVE = Enum.INT_MAVE;
+    static final int INT_MAVI = Enum.INT_MAVI;
+    static final int INT_MAVL = Enum.INT_MAVL;
+    static final int INT_MAVN = Enum.INT_MAVN;
+    static final int INT_MAXC = Enum.INT_MAXC;
+    static final int INT_MAXE = Enum.INT_MAXE;
+    static final int INT_MAXI = Enum.INT_MAXI;
+    static final int INT_MAXL = Enum.INT_MAXL;
+    static final int INT_MAXO = Enum.INT_MAXO;
+    static final int INT_MAYA = Enum.INT_MAYA;
+    static final int INT_MAYB = Enum.INT_MAYB;
+    static final int INT_MAYC = Enum.INT_MAYC;
+    static final int INT_MAYF = Enum.INT_MAYF;
+    static final int INT_MAYR = Enum.INT_MAYR;
+    static final int INT_MAYS = Enum.INT_MAYS;
+    static final int INT_MAZD = Enum.INT_MAZD;
+    static final int INT_MBCC = Enum.INT_MBCC;
+    static final int INT_MBCO = Enum.INT_MBCO;
+    static final int INT_MBCP = Enum.INT_MBCP;
+    static final int INT_MBEE = Enum.INT_MBEE;
+    static final int INT_MBIE = Enum.INT_MBIE;
+    static final int INT_MBIL = Enum.INT_MBIL;
+    static final int INT_MBM = Enum.INT_MBM;
+    static final int INT_MBTR = Enum.INT_MBTR;
+    static final int INT_MBWI = Enum.INT_MBWI;
+    static final int INT_MCAF = Enum.INT_MCAF;
+    static final int INT_MCBM = Enum.INT_MCBM;
+    static final int INT_MCCA = Enum.INT_MCCA;
+    static final int INT_MCCB = Enum.INT_MCCB;
+    static final int INT_MCCK = Enum.INT_MCCK;
+    static final int INT_MCCL = Enum.INT_MCCL;
+    static final int INT_MCCM = Enum.INT_MCCM;
+    static final int INT_MCCO = Enum.INT_MCCO;
+    static final int INT_MCCR = Enum.INT_MCCR;
+    static final int INT_MCCU = Enum.INT_MCCU;
+    static final int INT_MCCY = Enum.INT_MCCY;
+    static final int INT_MCFA = Enum.INT_MCFA;
+    static final int INT_MCIN = Enum.INT_MCIN;
+    static final int INT_MCKA = Enum.INT_MCKA;
+    static final int INT_MCKT = Enum.INT_MCKT;
+    static final int INT_MCKY = Enum.INT_MCKY;
+    static final int INT_MCNA = Enum.INT_MCNA;
+    static final int INT_MCNM = Enum.INT_MCNM;
+    static final int INT_MCOL = Enum.INT_MCOL;
+    static final int INT_MCOX = Enum.INT_MCOX;
+    static final int INT_MCOY = Enum.INT_MCOY;
+    static final int INT_MCQU = Enum.INT_MCQU;
+    static final int INT_MCQV = Enum.INT_MCQV;
+    static final int INT_MCRD = Enum.INT_MCRD;
+    static final int INT_MCRR = Enum.INT_MCRR;
+    static final int INT_MDAM = Enum.INT_MDAM;
+    static final int INT_MDLR = Enum.INT_MDLR;
+    static final int INT_MDNA = Enum.INT_MDNA;
+    static final int INT_MDS = Enum.INT_MDS;
+    static final int INT_MDST = Enum.INT_MDST;
+    static final int INT_MDTR = Enum.INT_MDTR;
+    static final int INT_MEAD = Enum.INT_MEAD;
+    static final int INT_MEAN = Enum.INT_MEAN;
+    static final int INT_MEBT = Enum.INT_MEBT;
+    static final int INT_MECH = Enum.INT_MECH;
+    static final int INT_MEDA = Enum.INT_MEDA;
+    static final int INT_MEDF = Enum.INT_MEDF;
+    static final int INT_MEDI = Enum.INT_MEDI;
+    static final int INT_MEIT = Enum.INT_MEIT;
+    static final int INT_MELA = Enum.INT_MELA;
+    static final int INT_MELG = Enum.INT_MELG;
+    static final int INT_MELM = Enum.INT_MELM;
+    static final int INT_MELO = Enum.INT_MELO;
+    static final int INT_MELR = Enum.INT_MELR;
+    static final int INT_MENS = Enum.INT_MENS;
+    static final int INT_MERB = Enum.INT_MERB;
+    static final int INT_MERC = Enum.INT_MERC;
+    static final int INT_MERH = Enum.INT_MERH;
+    static final int INT_MERI = Enum.INT_MERI;
+    static final int INT_MERK = Enum.INT_MERK;
+    static final int INT_MERM = Enum.INT_MERM;
+    static final int INT_MERR = Enum.INT_MERR;
+    static final int INT_MERT = Enum.INT_MERT;
+    static final int INT_MERW = Enum.INT_MERW;
+    static final int INT_MERY = Enum.INT_MERY;
+    static final int INT_MERZ = Enum.INT_MERZ;
+    static final int INT_MESA = Enum.INT_MESA;
+    static final int INT_MESS = Enum.INT_MESS;
+    static final int INT_META = Enum.INT_META;
+    static final int INT_METE = Enum.INT_METE;
+    static final int INT_METL = Enum.INT_METL;
+    static final int INT_METO = Enum.INT_METO;
+    static final int INT_METR = Enum.INT_METR;
+    static final int INT_METV = Enum.INT_METV;
+    static final int INT_METZ = Enum.INT_METZ;
+    static final int INT_MEYE = Enum.INT_MEYE;
+    static final int INT_MFAB = Enum.INT_MFAB;
+    static final int INT_MG = Enum.INT_MG;
+    static final int INT_MGM = Enum.INT_MGM;
+    static final int INT_MGNM = Enum.INT_MGNM;
+    static final int INT_MGNO = Enum.INT_MGNO;
+    static final int INT_MGOS = Enum.INT_MGOS;
+    static final int INT_MGS = Enum.INT_MGS;
+    static final int INT_MHEB = Enum.INT_MHEB;
+    static final int INT_MHMC = Enum.INT_MHMC;
+    static final int INT_MICA = Enum.INT_MICA;
+    static final int INT_MICC = Enum.INT_MICC;
+    static final int INT_MICG = Enum.INT_MICG;
+    static final int INT_MIDA = Enum.INT_MIDA;
+    static final int INT_MIDC = Enum.INT_MIDC;
+    static final int INT_MIDD = Enum.INT_MIDD;
+    static final int INT_MIDE = Enum.INT_MIDE;
+    static final int INT_MIDI = Enum.INT_MIDI;
+    static final int INT_MIDL = Enum.INT_MIDL;
+    static final int INT_MIDM = Enum.INT_MIDM;
+    static final int INT_MIDQ = Enum.INT_MIDQ;
+    static final int INT_MIDS = Enum.INT_MIDS;
+    static final int INT_MIDT = Enum.INT_MIDT;
+    static final int INT_MIDW = Enum.INT_MIDW;
+    static final int INT_MIFU = Enum.INT_MIFU;
+    static final int INT_MIKA = Enum.INT_MIKA;
+    static final int INT_MIKR = Enum.INT_MIKR;
+    static final int INT_MIL = Enum.INT_MIL;
+    static final int INT_MILA = Enum.INT_MILA;
+    static final int INT_MILC = Enum.INT_MILC;
+    static final int INT_MILE = Enum.INT_MILE;
+    static final int INT_MILL = Enum.INT_MILL;
+    static final int INT_MILR = Enum.INT_MILR;
+    static final int INT_MILT = Enum.INT_MILT;
+    static final int INT_MILW = Enum.INT_MILW;
+    static final int INT_MILY = Enum.INT_MILY;
+    static final int INT_MIMO = Enum.INT_MIMO;
+    static final int INT_MIND = Enum.INT_MIND;
+    static final int INT_MINI = Enum.INT_MINI;
+    static final int INT_MINN = Enum.INT_MINN;
+    static final int INT_MIRA = Enum.INT_MIRA;
+    static final int INT_MIST = Enum.INT_MIST;
+    static final int INT_MIT = Enum.INT_MIT;
+    static final int INT_MITC = Enum.INT_MITC;
+    static final int INT_MITS = Enum.INT_MITS;
+    static final int INT_MITT = Enum.INT_MITT;
+    static final int INT_MJCK = Enum.INT_MJCK;
+    static final int INT_MJME = Enum.INT_MJME;
+    static final int INT_MJMT = Enum.INT_MJMT;
+    static final int INT_MKMH = Enum.INT_MKMH;
+    static final int INT_MLBL = Enum.INT_MLBL;
+    static final int INT_MLLM = Enum.INT_MLLM;
+    static final int INT_MLLR = Enum.INT_MLLR;
+    static final int INT_MLRO = Enum.INT_MLRO;
+    static final int INT_MLTI = Enum.INT_MLTI;
+    static final int INT_MLTK = Enum.INT_MLTK;
+    static final int INT_MLXC = Enum.INT_MLXC;
+    static final int INT_MMCL = Enum.INT_MMCL;
+    static final int INT_MMMC = Enum.INT_MMMC;
+    static final int INT_MNAC = Enum.INT_MNAC;
+    static final int INT_MNAR = Enum.INT_MNAR;
+    static final int INT_MNDI = Enum.INT_MNDI;
+    static final int INT_MNLN = Enum.INT_MNLN;
+    static final int INT_MNNI = Enum.INT_MNNI;
+    static final int INT_MNRC = Enum.INT_MNRC;
+    static final int INT_MNRK = Enum.INT_MNRK;
+    static final int INT_MNRO = Enum.INT_MNRO;
+    static final int INT_MNSN = Enum.INT_MNSN;
+    static final int INT_MNTA = Enum.INT_MNTA;
+    static final int INT_MNTE = Enum.INT_MNTE;
+    static final int INT_MNTG = Enum.INT_MNTG;
+    static final int INT_MOAL = Enum.INT_MOAL;
+    static final int INT_MOBB = Enum.INT_MOBB;
+    static final int INT_MOBC = Enum.INT_MOBC;
+    static final int INT_MOBE = Enum.INT_MOBE;
+    static final int INT_MOBF = Enum.INT_MOBF;
+    static final int INT_MOBG = Enum.INT_MOBG;
+    static final int INT_MOBH = Enum.INT_MOBH;
+    static final int INT_MOBI = Enum.INT_MOBI;
+    static final int INT_MOBJ = Enum.INT_MOBJ;
+    static final int INT_MOBK = Enum.INT_MOBK;
+    static final int INT_MOBL = Enum.INT_MOBL;
+    static final int INT_MOBN = Enum.INT_MOBN;
+    static final int INT_MOBO = Enum.INT_MOBO;
+    static final int INT_MOBP = Enum.INT_MOBP;
+    static final int INT_MOBR = Enum.INT_MOBR;
+    static final int INT_MOBS = Enum.INT_MOBS;
+    static final int INT_MOBT = Enum.INT_MOBT;
+    static final int INT_MOBU = Enum.INT_MOBU;
+    static final int INT_MOBV = Enum.INT_MOBV;
+    static final int INT_MOBW = Enum.INT_MOBW;
+    static final int INT_MOBX = Enum.INT_MOBX;
+    static final int INT_MOCA = Enum.INT_MOCA;
+    static final int INT_MOCC = Enum.INT_MOCC;
+    static final int INT_MOCR = Enum.INT_MOCR;
+    static final int INT_MOCY = Enum.INT_MOCY;
+    static final int INT_MODE = Enum.INT_MODE;
+    static final int INT_MODH = Enum.INT_MODH;
+    static final int INT_MODI = Enum.INT_MODI;
+    static final int INT_MODL = Enum.INT_MODL;
+    static final int INT_MODN = Enum.INT_MODN;
+    static final int INT_MODR = Enum.INT_MODR;
+    static final int INT_MODU = Enum.INT_MODU;
+    static final int INT_MOFF = Enum.INT_MOFF;
+    static final int INT_MOGA = Enum.INT_MOGA;
+    static final int INT_MOGU = Enum.INT_MOGU;
+    static final int INT_MOHA = Enum.INT_MOHA;
+    static final int INT_MOHO = Enum.INT_MOHO;
+    static final int INT_MOJA = Enum.INT_MOJA;
+    static final int INT_MOLL = Enum.INT_MOLL;
+    static final int INT_MOLY = Enum.INT_MOLY;
+    static final int INT_MOMO = Enum.INT_MOMO;
+    static final int INT_MONA = Enum.INT_MONA;
+    static final int INT_MONB = Enum.INT_MONB;
+    static final int INT_MONC = Enum.INT_MONC;
+    static final int INT_MOND = Enum.INT_MOND;
+    static final int INT_MONG = Enum.INT_MONG;
+    static final int INT_MONH = Enum.INT_MONH;
+    static final int INT_MONI = Enum.INT_MONI;
+    static final int INT_MONN = Enum.INT_MONN;
+    static final int INT_MONO = Enum.INT_MONO;
+    static final int INT_MONR = Enum.INT_MONR;
+    static final int INT_MONS = Enum.INT_MONS;
+    static final int INT_MONT = Enum.INT_MONT;
+    static final int INT_MONU = Enum.INT_MONU;
+    static final int INT_MONV = Enum.INT_MONV;
+    static final int INT_MONW = Enum.INT_MONW;
+    static final int INT_MOOD = Enum.INT_MOOD;
+    static final int INT_MOOR = Enum.INT_MOOR;
+    static final int INT_MORD = Enum.INT_MORD;
+    static final int INT_MORE = Enum.INT_MORE;
+    static final int INT_MORG = Enum.INT_MORG;
+    static final int INT_MORI = Enum.INT_MORI;
+    static final int INT_MORM = Enum.INT_MORM;
+    static final int INT_MORN = Enum.INT_MORN;
+    static final int INT_MORR = Enum.INT_MORR;
+    static final int INT_MORS = Enum.INT_MORS;
+    static final int INT_MORT = Enum.INT_MORT;
+    static final int INT_MORU = Enum.INT_MORU;
+    static final int INT_MORW = Enum.INT_MORW;
+    static final int INT_MOSE = Enum.INT_MOSE;
+    static final int INT_MOSK = Enum.INT_MOSK;
+    static final int INT_MOSW = Enum.INT_MOSW;
+    static final int INT_MOTA = Enum.INT_MOTA;
+    static final int INT_MOTB = Enum.INT_MOTB;
+    static final int INT_MOTE = Enum.INT_MOTE;
+    static final int INT_MOTM = Enum.INT_MOTM;
+    static final int INT_MOTN = Enum.INT_MOTN;
+    static final int INT_MOTO = Enum.INT_MOTO;
+    static final int INT_MOTR = Enum.INT_MOTR;
+    static final int INT_MOTS = Enum.INT_MOTS;
+    static final int INT_MOUA = Enum.INT_MOUA;
+    static final int INT_MOUE = Enum.INT_MOUE;
+    static final int INT_MOUM = Enum.INT_MOUM;
+    static final int INT_MOUN = Enum.INT_MOUN;
+    static final int INT_MOUT = Enum.INT_MOUT;
+    static final int INT_MOWA = Enum.INT_MOWA;
+    static final int INT_MOWE = Enum.INT_MOWE;
+    static final int INT_MPC = Enum.INT_MPC;
+    static final int INT_MRAU = Enum.INT_MRAU;
+    static final int INT_MRCO = Enum.INT_MRCO;
+    static final int INT_MRCU = Enum.INT_MRCU;
+    static final int INT_MRED = Enum.INT_MRED;
+    static final int INT_MRIN = Enum.INT_MRIN;
+    static final int INT_MRIO = Enum.INT_MRIO;
+    static final int INT_MRNE = Enum.INT_MRNE;
+    static final int INT_MRQM = Enum.INT_MRQM;
+    static final int INT_MRRA = Enum.INT_MRRA;
+    static final int INT_MRS = Enum.INT_MRS;
+    static final int INT_MRTE = Enum.INT_MRTE;
+    static final int INT_MRTI = Enum.INT_MRTI;
+    static final int INT_MRTN = Enum.INT_MRTN;
+    static final int INT_MRTZ = Enum.INT_MRTZ;
+    static final int INT_MSFI = Enum.INT_MSFI;
+    static final int INT_MSI = Enum.INT_MSI;
+    static final int INT_MSTG = Enum.INT_MSTG;
+    static final int INT_MSTW = Enum.INT_MSTW;
+    static final int INT_MT = Enum.INT_MT;
+    static final int INT_MT_AEAG = Enum.INT_MT_AEAG;
+    static final int INT_MT_AGYL = Enum.INT_MT_AGYL;
+    static final int INT_MT_AIH = Enum.INT_MT_AIH;
+    static final int INT_MT_AJS = Enum.INT_MT_AJS;
+    static final int INT_MT_AJW = Enum.INT_MT_AJW;
+    static final int INT_MT_ALED = Enum.INT_MT_ALED;
+    static final int INT_MT_ALEX = Enum.INT_MT_ALEX;
+    static final int INT_MT_ALLL = Enum.INT_MT_ALLL;
+    static final int INT_MT_ALOU = Enum.INT_MT_ALOU;
+    static final int INT_MT_ALPH = Enum.INT_MT_ALPH;
+    static final int INT_MT_ALSP = Enum.INT_MT_ALSP;
+    static final int INT_MT_AMBA = Enum.INT_MT_AMBA;
+    static final int INT_MT_AMDB = Enum.INT_MT_AMDB;
+    static final int INT_MT_AMEN = Enum.INT_MT_AMEN;
+    static final int INT_MT_AMF = Enum.INT_MT_AMF;
+    static final int INT_MT_AMI = Enum.INT_MT_AMI;
+    static final int INT_MT_AMLF = Enum.INT_MT_AMLF;
+    static final int INT_MT_AMME = Enum.INT_MT_AMME;
+    static final int INT_MT_AMPF = Enum.INT_MT_AMPF;
+    static final int INT_MT_AMPT = Enum.INT_MT_AMPT;
+    static final int INT_MT_AMQT = Enum.INT_MT_AMQT;
+    static final int INT_MT_ANGL = Enum.INT_MT_ANGL;
+    static final int INT_MT_APRI = Enum.INT_MT_APRI;
+    static final int INT_MT_ARCA = Enum.INT_MT_ARCA;
+    static final int INT_MT_ARGG = Enum.INT_MT_ARGG;
+    static final int INT_MT_ARIE = Enum.INT_MT_ARIE;
+    static final int INT_MT_ARTI = Enum.INT_MT_ARTI;
+    static final int INT_MT_ASPS = Enum.INT_MT_ASPS;
+    static final int INT_MT_ATAS = Enum.INT_MT_ATAS;
+    static final int INT_MT_ATEX = Enum.INT_MT_ATEX;
+    static final int INT_MT_ATK = Enum.INT_MT_ATK;
+    static final int INT_MT_ATV = Enum.INT_MT_ATV;
+    static final int INT_MT_AUG = Enum.INT_MT_AUG;
+    static final int INT_MT_AURA = Enum.INT_MT_AURA;
+    static final int INT_MT_AVAN = Enum.INT_MT_AVAN;
+    static final int INT_MT_BAJA = Enum.INT_MT_BAJA;
+    static final int INT_MT_BALK = Enum.INT_MT_BALK;
+    static final int INT_MT_BANM = Enum.INT_MT_BANM;
+    static final int INT_MT_BBW = Enum.INT_MT_BBW;
+    static final int INT_MT_BDFL = Enum.INT_MT_BDFL;
+    static final int INT_MT_BEBE = Enum.INT_MT_BEBE;
+    static final int INT_MT_BENE = Enum.INT_MT_BENE;
+    static final int INT_MT_BETA = Enum.INT_MT_BETA;
+    static final int INT_MT_BGDG = Enum.INT_MT_BGDG;
+    static final int INT_MT_BGHM = Enum.INT_MT_BGHM;
+    static final int INT_MT_BIAN = Enum.INT_MT_BIAN;
+    static final int INT_MT_BIMO = Enum.INT_MT_BIMO;
+    static final int INT_MT_BIRD = Enum.INT_MT_BIRD;
+    static final int INT_MT_BLAE = Enum.INT_MT_BLAE;
+    static final int INT_MT_BMW = Enum.INT_MT_BMW;
+    static final int INT_MT_BNZA = Enum.INT_MT_BNZA;
+    static final int INT_MT_BOMB = Enum.INT_MT_BOMB;
+    static final int INT_MT_BOND = Enum.INT_MT_BOND;
+    static final int INT_MT_BOSS = Enum.INT_MT_BOSS;
+    static final int INT_MT_BREK = Enum.INT_MT_BREK;
+    static final int INT_MT_BRID = Enum.INT_MT_BRID;
+    static final int INT_MT_BRLL = Enum.INT_MT_BRLL;
+    static final int INT_MT_BRON = Enum.INT_MT_BRON;
+    static final int INT_MT_BRST = Enum.INT_MT_BRST;
+    static final int INT_MT_BRTT = Enum.INT_MT_BRTT;
+    static final int INT_MT_BRUT = Enum.INT_MT_BRUT;
+    static final int INT_MT_BSA = Enum.INT_MT_BSA;
+    static final int INT_MT_BTVS = Enum.INT_MT_BTVS;
+    static final int INT_MT_BUEL = Enum.INT_MT_BUEL;
+    static final int INT_MT_BUG = Enum.INT_MT_BUG;
+    static final int INT_MT_BULT = Enum.INT_MT_BULT;
+    static final int INT_MT_BURO = Enum.INT_MT_BURO;
+    static final int INT_MT_CAAR = Enum.INT_MT_CAAR;
+    static final int INT_MT_CABK = Enum.INT_MT_CABK;
+    static final int INT_MT_CACY = Enum.INT_MT_CACY;
+    static final int INT_MT_CAFF = Enum.INT_MT_CAFF;
+    static final int INT_MT_CALO = Enum.INT_MT_CALO;
+    static final int INT_MT_CANA = Enum.INT_MT_CANA;
+    static final int INT_MT_CANN = Enum.INT_MT_CANN;
+    static final int INT_MT_CAPR = Enum.INT_MT_CAPR;
+    static final int INT_MT_CASL = Enum.INT_MT_CASL;
+    static final int INT_MT_CATM = Enum.INT_MT_CATM;
+    static final int INT_MT_CBRO = Enum.INT_MT_CBRO;
+    static final int INT_MT_CCCY = Enum.INT_MT_CCCY;
+    static final int INT_MT_CENT = Enum.INT_MT_CENT;
+    static final int INT_MT_CEZE = Enum.INT_MT_CEZE;
+    static final int INT_MT_CHAP = Enum.INT_MT_CHAP;
+    static final int INT_MT_CHIB = Enum.INT_MT_CHIB;
+    static final int INT_MT_CHLY = Enum.INT_MT_CHLY;
+    static final int INT_MT_CHMC = Enum.INT_MT_CHMC;
+    static final int INT_MT_CHTH = Enum.INT_MT_CHTH;
+    static final int INT_MT_CIMA = Enum.INT_MT_CIMA;
+    static final int INT_MT_CJGC = Enum.INT_MT_CJGC;
+    static final int INT_MT_CLIT = Enum.INT_MT_CLIT;
+    static final int INT_MT_CLMN = Enum.INT_MT_CLMN;
+    static final int INT_MT_CMCC = Enum.INT_MT_CMCC;
+    static final int INT_MT_CMCW = Enum.INT_MT_CMCW;
+    static final int INT_MT_CMPG = Enum.INT_MT_CMPG;
+    static final int INT_MT_COBM = Enum.INT_MT_COBM;
+    static final int INT_MT_COCO = Enum.INT_MT_COCO;
+    static final int INT_MT_COLB = Enum.INT_MT_COLB;
+    static final int INT_MT_COMU = Enum.INT_MT_COMU;
+    static final int INT_MT_COND = Enum.INT_MT_COND;
+    static final int INT_MT_CONF = Enum.INT_MT_CONF;
+    static final int INT_MT_CONT = Enum.INT_MT_CONT;
+    static final int INT_MT_COOP = Enum.INT_MT_COOP;
+    static final int INT_MT_COSM = Enum.INT_MT_COSM;
+    static final int INT_MT_COTN = Enum.INT_MT_COTN;
+    static final int INT_MT_CRAF = Enum.INT_MT_CRAF;
+    static final int INT_MT_CREL = Enum.INT_MT_CREL;
+    static final int INT_MT_CRGR = Enum.INT_MT_CRGR;
+    static final int INT_MT_CTTM = Enum.INT_MT_CTTM;
+    static final int INT_MT_CUSH = Enum.INT_MT_CUSH;
+    static final int INT_MT_CUYL = Enum.INT_MT_CUYL;
+    static final int INT_MT_CWPC = Enum.INT_MT_CWPC;
+    static final int INT_MT_CYCL = Enum.INT_MT_CYCL;
+    static final int INT_MT_CYSC = Enum.INT_MT_CYSC;
+    static final int INT_MT_CZ = Enum.INT_MT_CZ;
+    static final int INT_MT_DALE = Enum.INT_MT_DALE;
+    static final int INT_MT_DANU = Enum.INT_MT_DANU;
+    static final int INT_MT_DARW = Enum.INT_MT_DARW;
+    static final int INT_MT_DAZN = Enum.INT_MT_DAZN;
+    static final int INT_MT_DEER = Enum.INT_MT_DEER;
+    static final int INT_MT_DERB = Enum.INT_MT_DERB;
+    static final int INT_MT_DINL = Enum.INT_MT_DINL;
+    static final int INT_MT_DKR = Enum.INT_MT_DKR;
+    static final int INT_MT_DKW = Enum.INT_MT_DKW;
+    static final int INT_MT_DMP = Enum.INT_MT_DMP;
+    static final int INT_MT_DOT = Enum.INT_MT_DOT;
+    static final int INT_MT_DSPD = Enum.INT_MT_DSPD;
+    static final int INT_MT_DUCA = Enum.INT_MT_DUCA;
+    static final int INT_MT_DYCY = Enum.INT_MT_DYCY;
+    static final int INT_MT_DYTC = Enum.INT_MT_DYTC;
+    static final int INT_MT_ECOB = Enum.INT_MT_ECOB;
+    static final int INT_MT_ECTA = Enum.INT_MT_ECTA;
+    static final int INT_MT_EDWN = Enum.INT_MT_EDWN;
+    static final int INT_MT_EGLE = Enum.INT_MT_EGLE;
+    static final int INT_MT_EKCH = Enum.INT_MT_EKCH;
+    static final int INT_MT_ELCY = Enum.INT_MT_ELCY;
+    static final int INT_MT_ELVT = Enum.INT_MT_ELVT;
+    static final int INT_MT_EMML = Enum.INT_MT_EMML;
+    static final int INT_MT_ENMC = Enum.INT_MT_ENMC;
+    static final int INT_MT_ESIX = Enum.INT_MT_ESIX;
+    static final int INT_MT_ETON = Enum.INT_MT_ETON;
+    static final int INT_MT_EXCR = Enum.INT_MT_EXCR;
+    static final int INT_MT_EXCY = Enum.INT_MT_EXCY;
+    static final int INT_MT_EXHE = Enum.INT_MT_EXHE;
+    static final int INT_MT_EXPL = Enum.INT_MT_EXPL;
+    static final int INT_MT_FATC = Enum.INT_MT_FATC;
+    static final int INT_MT_FHL = Enum.INT_MT_FHL;
+    static final int INT_MT_FLAN = Enum.INT_MT_FLAN;
+    static final int INT_MT_FLEO = Enum.INT_MT_FLEO;
+    static final int INT_MT_FLYI = Enum.INT_MT_FLYI;
+    static final int INT_MT_FN = Enum.INT_MT_FN;
+    static final int INT_MT_FNTM = Enum.INT_MT_FNTM;
+    static final int INT_MT_FOMO = Enum.INT_MT_FOMO;
+    static final int INT_MT_FOX = Enum.INT_MT_FOX;
+    static final int INT_MT_FOXI = Enum.INT_MT_FOXI;
+    static final int INT_MT_FRBA = Enum.INT_MT_FRBA;
+    static final int INT_MT_FRUN = Enum.INT_MT_FRUN;
+    static final int INT_MT_FTRC = Enum.INT_MT_FTRC;
+    static final int INT_MT_FUJI = Enum.INT_MT_FUJI;
+    static final int INT_MT_GABB = Enum.INT_MT_GABB;
+    static final int INT_MT_GADB = Enum.INT_MT_GADB;
+    static final int INT_MT_GARE = Enum.INT_MT_GARE;
+    static final int INT_MT_GEEL = Enum.INT_MT_GEEL;
+    static final int INT_MT_GEMI = Enum.INT_MT_GEMI;
+    static final int INT_MT_GENR = Enum.INT_MT_GENR;
+    static final int INT_MT_GILE = Enum.INT_MT_GILE;
+    static final int INT_MT_GILL = Enum.INT_MT_GILL;
+    static final int INT_MT_GISN = Enum.INT_MT_GISN;
+    static final int INT_MT_GITA = Enum.INT_MT_GITA;
+    static final int INT_MT_GLBE = Enum.INT_MT_GLBE;
+    static final int INT_MT_GLMB = Enum.INT_MT_GLMB;
+    static final int INT_MT_GOGO = Enum.INT_MT_GOGO;
+    static final int INT_MT_GOKT = Enum.INT_MT_GOKT;
+    static final int INT_MT_GREV = Enum.INT_MT_GREV;
+    static final int INT_MT_GROV = Enum.INT_MT_GROV;
+    static final int INT_MT_GRRM = Enum.INT_MT_GRRM;
+    static final int INT_MT_GRYE = Enum.INT_MT_GRYE;
+    static final int INT_MT_GUIZ = Enum.INT_MT_GUIZ;
+    static final int INT_MT_GUZO = Enum.INT_MT_GUZO;
+    static final int INT_MT_HANS = Enum.INT_MT_HANS;
+    static final int INT_MT_HAWT = Enum.INT_MT_HAWT;
+    static final int INT_MT_HD = Enum.INT_MT_HD;
+    static final int INT_MT_HEAL = Enum.INT_MT_HEAL;
+    static final int INT_MT_HEAT = Enum.INT_MT_HEAT;
+    static final int INT_MT_HEIN = Enum.INT_MT_HEIN;
+    static final int INT_MT_HERC = Enum.INT_MT_HERC;
+    static final int INT_MT_HGON = Enum.INT_MT_HGON;
+    static final int INT_MT_HIAW = Enum.INT_MT_HIAW;
+    static final int INT_MT_HLDH = Enum.INT_MT_HLDH;
+    static final int INT_MT_HMVE = Enum.INT_MT_HMVE;
+    static final int INT_MT_HODA = Enum.INT_MT_HODA;
+    static final int INT_MT_HOF = Enum.INT_MT_HOF;
+    static final int INT_MT_HOMD = Enum.INT_MT_HOMD;
+    static final int INT_MT_HOND = Enum.INT_MT_HOND;
+    static final int INT_MT_HORX = Enum.INT_MT_HORX;
+    static final int INT_MT_HRTR = Enum.INT_MT_HRTR;
+    static final int INT_MT_HUFY = Enum.INT_MT_HUFY;
+    static final int INT_MT_HUML = Enum.INT_MT_HUML;
+    static final int INT_MT_HUSA = Enum.INT_MT_HUSA;
+    static final int INT_MT_HUSK = Enum.INT_MT_HUSK;
+    static final int INT_MT_HUSQ = Enum.INT_MT_HUSQ;
+    static final int INT_MT_HYOS = Enum.INT_MT_HYOS;
+    static final int INT_MT_IND = Enum.INT_MT_IND;
+    static final int INT_MT_INDI = Enum.INT_MT_INDI;
+    static final int INT_MT_INGL = Enum.INT_MT_INGL;
+    static final int INT_MT_INMC = Enum.INT_MT_INMC;
+    static final int INT_MT_ITAL = Enum.INT_MT_ITAL;
+    static final int INT_MT_ITAT = Enum.INT_MT_ITAT;
+    static final int INT_MT_ITAV = Enum.INT_MT_ITAV;
+    static final int INT_MT_ITOM = Enum.INT_MT_ITOM;
+    static final int INT_MT_JAMM = Enum.INT_MT_JAMM;
+    static final int INT_MT_JAWA = Enum.INT_MT_JAWA;
+    static final int INT_MT_JB = Enum.INT_MT_JB;
+    static final int INT_MT_JEHM = Enum.INT_MT_JEHM;
+    static final int INT_MT_JIAN = Enum.INT_MT_JIAN;
+    static final int INT_MT_JINS = Enum.INT_MT_JINS;
+    static final int INT_MT_JMCY = Enum.INT_MT_JMCY;
+    static final int INT_MT_JMS = Enum.INT_MT_JMS;
+    static final int INT_MT_JOLI = Enum.INT_MT_JOLI;
+    static final int INT_MT_JPTR = Enum.INT_MT_JPTR;
+    static final int INT_MT_JUIL = Enum.INT_MT_JUIL;
+    static final int INT_MT_KAM = Enum.INT_MT_KAM;
+    static final int INT_MT_KAMI = Enum.INT_MT_KAMI;
+    static final int INT_MT_KANN = Enum.INT_MT_KANN;
+    static final int INT_MT_KAWK = Enum.INT_MT_KAWK;
+    static final int INT_MT_KAZU = Enum.INT_MT_KAZU;
+    static final int INT_MT_KCCF = Enum.INT_MT_KCCF;
+    static final int INT_MT_KENY = Enum.INT_MT_KENY;
+    static final int INT_MT_KITK = Enum.INT_MT_KITK;
+    static final int INT_MT_KMSR = Enum.INT_MT_KMSR;
+    static final int INT_MT_KNBR = Enum.INT_MT_KNBR;
+    static final int INT_MT_KNTC = Enum.INT_MT_KNTC;
+    static final int INT_MT_KOMR = Enum.INT_MT_KOMR;
+    static final int INT_MT_KRDL = Enum.INT_MT_KRDL;
+    static final int INT_MT_KROM = Enum.INT_MT_KROM;
+    static final int INT_MT_KSEA = Enum.INT_MT_KSEA;
+    static final int INT_MT_KTM = Enum.INT_MT_KTM;
+    static final int INT_MT_KYMC = Enum.INT_MT_KYMC;
+    static final int INT_MT_LAMB = Enum.INT_MT_LAMB;
+    static final int INT_MT_LANR = Enum.INT_MT_LANR;
+    static final int INT_MT_LAVE = Enum.INT_MT_LAVE;
+    static final int INT_MT_LAZE = Enum.INT_MT_LAZE;
+    static final int INT_MT_LCHG = Enum.INT_MT_LCHG;
+    static final int INT_MT_LECT = Enum.INT_MT_LECT;
+    static final int INT_MT_LEKT = Enum.INT_MT_LEKT;
+    static final int INT_MT_LEM = Enum.INT_MT_LEM;
+    static final int INT_MT_LEVI = Enum.INT_MT_LEVI;
+    static final int INT_MT_LILA = Enum.INT_MT_LILA;
+    static final int INT_MT_LILN = Enum.INT_MT_LILN;
+    static final int INT_MT_LINH = Enum.INT_MT_LINH;
+    static final int INT_MT_LOM = Enum.INT_MT_LOM;
+    static final int INT_MT_LUKY = Enum.INT_MT_LUKY;
+    static final int INT_MT_LYMA = Enum.INT_MT_LYMA;
+    static final int INT_MT_MADM = Enum.INT_MT_MADM;
+    static final int INT_MT_MAIC = Enum.INT_MT_MAIC;
+    static final int INT_MT_MALA = Enum.INT_MT_MALA;
+    static final int INT_MT_MALN = Enum.INT_MT_MALN;
+    static final int INT_MT_MALY = Enum.INT_MT_MALY;
+    static final int INT_MT_MANC = Enum.INT_MT_MANC;
+    static final int INT_MT_MANE = Enum.INT_MT_MANE;
+    static final int INT_MT_MARU = Enum.INT_MT_MARU;
+    static final int INT_MT_MASY = Enum.INT_MT_MASY;
+    static final int INT_MT_MATR = Enum.INT_MT_MATR;
+    static final int INT_MT_MAV = Enum.INT_MT_MAV;
+    static final int INT_MT_MBEE = Enum.INT_MT_MBEE;
+    static final int INT_MT_MDS = Enum.INT_MT_MDS;
+    static final int INT_MT_MEIT = Enum.INT_MT_MEIT;
+    static final int INT_MT_MINI = Enum.INT_MT_MINI;
+    static final int INT_MT_MINN = Enum.INT_MT_MINN;
+    static final int INT_MT_MMCL = Enum.INT_MT_MMCL;
+    static final int INT_MT_MNAR = Enum.INT_MT_MNAR;
+    static final int INT_MT_MNRK = Enum.INT_MT_MNRK;
+    static final int INT_MT_MNSN = Enum.INT_MT_MNSN;
+    static final int INT_MT_MOBE = Enum.INT_MT_MOBE;
+    static final int INT_MT_MOBI = Enum.INT_MT_MOBI;
+    static final int INT_MT_MOCR = Enum.INT_MT_MOCR;
+    static final int INT_MT_MOCY = Enum.INT_MT_MOCY;
+    static final int INT_MT_MOGU = Enum.INT_MT_MOGU;
+    static final int INT_MT_MOJA = Enum.INT_MT_MOJA;
+    static final int INT_MT_MOMO = Enum.INT_MT_MOMO;
+    static final int INT_MT_MOND = Enum.INT_MT_MOND;
+    static final int INT_MT_MONT = Enum.INT_MT_MONT;
+    static final int INT_MT_MORU = Enum.INT_MT_MORU;
+    static final int INT_MT_MOTB = Enum.INT_MT_MOTB;
+    static final int INT_MT_MOTM = Enum.INT_MT_MOTM;
+    static final int INT_MT_MOTN = Enum.INT_MT_MOTN;
+    static final int INT_MT_MOTS = Enum.INT_MT_MOTS;
+    static final int INT_MT_MRCO = Enum.INT_MT_MRCO;
+    static final int INT_MT_MRTE = Enum.INT_MT_MRTE;
+    static final int INT_MT_MTBE = Enum.INT_MT_MTBE;
+    static final int INT_MT_MTCH = Enum.INT_MT_MTCH;
+    static final int INT_MT_MTD = Enum.INT_MT_MTD;
+    static final int INT_MT_MUHL = Enum.INT_MT_MUHL;
+    static final int INT_MT_MURR = Enum.INT_MT_MURR;
+    static final int INT_MT_MUST = Enum.INT_MT_MUST;
+    static final int INT_MT_MVAU = Enum.INT_MT_MVAU;
+    static final int INT_MT_MWCH = Enum.INT_MT_MWCH;
+    static final int INT_MT_MZ = Enum.INT_MT_MZ;
+    static final int INT_MT_NEGR = Enum.INT_MT_NEGR;
+    static final int INT_MT_NEVM = Enum.INT_MT_NEVM;
+    static final int INT_MT_NFLD = Enum.INT_MT_NFLD;
+    static final int INT_MT_NORM = Enum.INT_MT_NORM;
+    static final int INT_MT_NORT = Enum.INT_MT_NORT;
+    static final int INT_MT_NSU = Enum.INT_MT_NSU;
+    static final int INT_MT_NUON = Enum.INT_MT_NUON;
+    static final int INT_MT_NVTA = Enum.INT_MT_NVTA;
+    static final int INT_MT_ODSS = Enum.INT_MT_ODSS;
+    static final int INT_MT_OMEG = Enum.INT_MT_OMEG;
+    static final int INT_MT_OPL = Enum.INT_MT_OPL;
+    static final int INT_MT_OSSA = Enum.INT_MT_OSSA;
+    static final int INT_MT_OZBK = Enum.INT_MT_OZBK;
+    static final int INT_MT_PACE = Enum.INT_MT_PACE;
+    static final int INT_MT_PACS = Enum.INT_MT_PACS;
+    static final int INT_MT_PAGS = Enum.INT_MT_PAGS;
+    static final int INT_MT_PAIS = Enum.INT_MT_PAIS;
+    static final int INT_MT_PAND = Enum.INT_MT_PAND;
+    static final int INT_MT_PANN = Enum.INT_MT_PANN;
+    static final int INT_MT_PANT = Enum.INT_MT_PANT;
+    static final int INT_MT_PARI = Enum.INT_MT_PARI;
+    static final int INT_MT_PAUG = Enum.INT_MT_PAUG;
+    static final int INT_MT_PDRS = Enum.INT_MT_PDRS;
+    static final int INT_MT_PDV = Enum.INT_MT_PDV;
+    static final int INT_MT_PEDA = Enum.INT_MT_PEDA;
+    static final int INT_MT_PEDD = Enum.INT_MT_PEDD;
+    static final int INT_MT_PEGA = Enum.INT_MT_PEGA;
+    static final int INT_MT_PENN = Enum.INT_MT_PENN;
+    static final int INT_MT_PENT = Enum.INT_MT_PENT;
+    static final int INT_MT_PEUG = Enum.INT_MT_PEUG;
+    static final int INT_MT_PGSS = Enum.INT_MT_PGSS;
+    static final int INT_MT_PHOE = Enum.INT_MT_PHOE;
+    static final int INT_MT_PIAZ = Enum.INT_MT_PIAZ;
+    static final int INT_MT_PINT = Enum.INT_MT_PINT;
+    static final int INT_MT_PNTA = Enum.INT_MT_PNTA;
+    static final int INT_MT_PNZR = Enum.INT_MT_PNZR;
+    static final int INT_MT_POIN = Enum.INT_MT_POIN;
+    static final int INT_MT_POLI = Enum.INT_MT_POLI;
+    static final int INT_MT_POLS = Enum.INT_MT_POLS;
+    static final int INT_MT_PONY = Enum.INT_MT_PONY;
+    static final int INT_MT_POWL = Enum.INT_MT_POWL;
+    static final int INT_MT_PRCW = Enum.INT_MT_PRCW;
+    static final int INT_MT_PREM = Enum.INT_MT_PREM;
+    static final int INT_MT_PRNE = Enum.INT_MT_PRNE;
+    static final int INT_MT_PROG = Enum.INT_MT_PROG;
+    static final int INT_MT_PROM = Enum.INT_MT_PROM;
+    static final int INT_MT_PRYE = Enum.INT_MT_PRYE;
+    static final int INT_MT_PSCC = Enum.INT_MT_PSCC;
+    static final int INT_MT_PUCH = Enum.INT_MT_PUCH;
+    static final int INT_MT_PWDY = Enum.INT_MT_PWDY;
+    static final int INT_MT_QING = Enum.INT_MT_QING;
+    static final int INT_MT_QINJ = Enum.INT_MT_QINJ;
+    static final int INT_MT_RABB = Enum.INT_MT_RABB;
+    static final int INT_MT_RABJ = Enum.INT_MT_RABJ;
+    static final int INT_MT_RCCM = Enum.INT_MT_RCCM;
+    static final int INT_MT_RDER = Enum.INT_MT_RDER;
+    static final int INT_MT_RDLY = Enum.INT_MT_RDLY;
+    static final int INT_MT_RECO = Enum.INT_MT_RECO;
+    static final int INT_MT_RECR = Enum.INT_MT_RECR;
+    static final int INT_MT_REDH = Enum.INT_MT_REDH;
+    static final int INT_MT_REVN = Enum.INT_MT_REVN;
+    static final int INT_MT_REX = Enum.INT_MT_REX;
+    static final int INT_MT_RICK = Enum.INT_MT_RICK;
+    static final int INT_MT_RIVI = Enum.INT_MT_RIVI;
+    static final int INT_MT_RIVS = Enum.INT_MT_RIVS;
+    static final int INT_MT_RKWL = Enum.INT_MT_RKWL;
+    static final int INT_MT_ROCK = Enum.INT_MT_ROCK;
+    static final int INT_MT_ROEN = Enum.INT_MT_ROEN;
+    static final int INT_MT_ROKN = Enum.INT_MT_ROKN;
+    static final int INT_MT_ROLL = Enum.INT_MT_ROLL;
+    static final int INT_MT_ROLT = Enum.INT_MT_ROLT;
+    static final int INT_MT_RORU = Enum.INT_MT_RORU;
+    static final int INT_MT_RPTR = Enum.INT_MT_RPTR;
+    static final int INT_MT_RRMM = Enum.INT_MT_RRMM;
+    static final int INT_MT_RUMI = Enum.INT_MT_RUMI;
+    static final int INT_MT_RUPP = Enum.INT_MT_RUPP;
+    static final int INT_MT_RUTM = Enum.INT_MT_RUTM;
+    static final int INT_MT_RUTT = Enum.INT_MT_RUTT;
+    static final int INT_MT_SACH = Enum.INT_MT_SACH;
+    static final int INT_MT_SAFA = Enum.INT_MT_SAFA;
+    static final int INT_MT_SAFT = Enum.INT_MT_SAFT;
+    static final int INT_MT_SALB = Enum.INT_MT_SALB;
+    static final int INT_MT_SANT = Enum.INT_MT_SANT;
+    static final int INT_MT_SARA = Enum.INT_MT_SARA;
+    static final int INT_MT_SCAM = Enum.INT_MT_SCAM;
+    static final int INT_MT_SCAT = Enum.INT_MT_SCAT;
+    static final int INT_MT_SCOA = Enum.INT_MT_SCOA;
+    static final int INT_MT_SCOR = Enum.INT_MT_SCOR;
+    static final int INT_MT_SCOT = Enum.INT_MT_SCOT;
+    static final int INT_MT_SEAG = Enum.INT_MT_SEAG;
+    static final int INT_MT_SEAR = Enum.INT_MT_SEAR;
+    static final int INT_MT_SECY = Enum.INT_MT_SECY;
+    static final int INT_MT_SEXT = Enum.INT_MT_SEXT;
+    static final int INT_MT_SFM = Enum.INT_MT_SFM;
+    static final int INT_MT_SHJZ = Enum.INT_MT_SHJZ;
+    static final int INT_MT_SHL = Enum.INT_MT_SHL;
+    static final int INT_MT_SHRC = Enum.INT_MT_SHRC;
+    static final int INT_MT_SILP = Enum.INT_MT_SILP;
+    static final int INT_MT_SIMS = Enum.INT_MT_SIMS;
+    static final int INT_MT_SKTM = Enum.INT_MT_SKTM;
+    static final int INT_MT_SLEL = Enum.INT_MT_SLEL;
+    static final int INT_MT_SMBT = Enum.INT_MT_SMBT;
+    static final int INT_MT_SMIL = Enum.INT_MT_SMIL;
+    static final int INT_MT_SMLX = Enum.INT_MT_SMLX;
+    static final int INT_MT_SNDR = Enum.INT_MT_SNDR;
+    static final int INT_MT_SNOC = Enum.INT_MT_SNOC;
+    static final int INT_MT_SNOW = Enum.INT_MT_SNOW;
+    static final int INT_MT_SNSA = Enum.INT_MT_SNSA;
+    static final int INT_MT_SNTE = Enum.INT_MT_SNTE;
+    static final int INT_MT_SOLO = Enum.INT_MT_SOLO;
+    static final int INT_MT_SONI = Enum.INT_MT_SONI;
+    static final int INT_MT_SPAR = Enum.INT_MT_SPAR;
+    static final int INT_MT_SPBD = Enum.INT_MT_SPBD;
+    static final int INT_MT_SPCY = Enum.INT_MT_SPCY;
+    static final int INT_MT_SPEC = Enum.INT_MT_SPEC;
+    static final int INT_MT_SPED = Enum.INT_MT_SPED;
+    static final int INT_MT_SPEG = Enum.INT_MT_SPEG;
+    static final int INT_MT_SPNT = Enum.INT_MT_SPNT;
+    static final int INT_MT_SPOR = Enum.INT_MT_SPOR;
+    static final int INT_MT_SPRD = Enum.INT_MT_SPRD;
+    static final int INT_MT_SPRE = Enum.INT_MT_SPRE;
+    static final int INT_MT_SPWY = Enum.INT_MT_SPWY;
+    static final int INT_MT_SUFL = Enum.INT_MT_SUFL;
+    static final int INT_MT_SUN = Enum.INT_MT_SUN;
+    static final int INT_MT_SUNB = Enum.INT_MT_SUNB;
+    static final int INT_MT_SUVE = Enum.INT_MT_SUVE;
+    static final int INT_MT_SUZI = Enum.INT_MT_SUZI;
+    static final int INT_MT_SWIF = Enum.INT_MT_SWIF;
+    static final int INT_MT_SWIT = Enum.INT_MT_SWIT;
+    static final int INT_MT_SWM = Enum.INT_MT_SWM;
+    static final int INT_MT_TACQ = Enum.INT_MT_TACQ;
+    static final int INT_MT_TAIZ = Enum.INT_MT_TAIZ;
+    static final int INT_MT_TAKA = Enum.INT_MT_TAKA;
+    static final int INT_MT_TALG = Enum.INT_MT_TALG;
+    static final int INT_MT_TECU = Enum.INT_MT_TECU;
+    static final int INT_MT_TEMP = Enum.INT_MT_TEMP;
+    static final int INT_MT_TESI = Enum.INT_MT_TESI;
+    static final int INT_MT_TG = Enum.INT_MT_TG;
+    static final int INT_MT_THPN = Enum.INT_MT_THPN;
+    static final int INT_MT_TITN = Enum.INT_MT_TITN;
+    static final int INT_MT_TMCC = Enum.INT_MT_TMCC;
+    static final int INT_MT_TOHA = Enum.INT_MT_TOHA;
+    static final int INT_MT_TOMO = Enum.INT_MT_TOMO;
+    static final int INT_MT_TORA = Enum.INT_MT_TORA;
+    static final int INT_MT_TORR = Enum.INT_MT_TORR;
+    static final int INT_MT_TOWR = Enum.INT_MT_TOWR;
+    static final int INT_MT_TRBO = Enum.INT_MT_TRBO;
+    static final int INT_MT_TRBR = Enum.INT_MT_TRBR;
+    static final int INT_MT_TRBZ = Enum.INT_MT_TRBZ;
+    static final int INT_MT_TRDD = Enum.INT_MT_TRDD;
+    static final int INT_MT_TRFL = Enum.INT_MT_TRFL;
+    static final int INT_MT_TRHK = Enum.INT_MT_TRHK;
+    static final int INT_MT_TRHO = Enum.INT_MT_TRHO;
+    static final int INT_MT_TRIH = Enum.INT_MT_TRIH;
+    static final int INT_MT_TRIK = Enum.INT_MT_TRIK;
+    static final int INT_MT_TRPT = Enum.INT_MT_TRPT;
+    static final int INT_MT_TRRD = Enum.INT_MT_TRRD;
+    static final int INT_MT_TRSP = Enum.INT_MT_TRSP;
+    static final int INT_MT_TRTR = Enum.INT_MT_TRTR;
+    static final int INT_MT_TRUM = Enum.INT_MT_TRUM;
+    static final int INT_MT_TRVS = Enum.INT_MT_TRVS;
+    static final int INT_MT_TSSY = Enum.INT_MT_TSSY;
+    static final int INT_MT_TUTR = Enum.INT_MT_TUTR;
+    static final int INT_MT_TWIS = Enum.INT_MT_TWIS;
+    static final int INT_MT_TWN = Enum.INT_MT_TWN;
+    static final int INT_MT_TWST = Enum.INT_MT_TWST;
+    static final int INT_MT_TYAN = Enum.INT_MT_TYAN;
+    static final int INT_MT_TYCO = Enum.INT_MT_TYCO;
+    static final int INT_MT_ULAC = Enum.INT_MT_ULAC;
+    static final int INT_MT_ULMC = Enum.INT_MT_ULMC;
+    static final int INT_MT_ULTM = Enum.INT_MT_ULTM;
+    static final int INT_MT_UNLI = Enum.INT_MT_UNLI;
+    static final int INT_MT_URAL = Enum.INT_MT_URAL;
+    static final int INT_MT_VALI = Enum.INT_MT_VALI;
+    static final int INT_MT_VANV = Enum.INT_MT_VANV;
+    static final int INT_MT_VATC = Enum.INT_MT_VATC;
+    static final int INT_MT_VCTY = Enum.INT_MT_VCTY;
+    static final int INT_MT_VEGL = Enum.INT_MT_VEGL;
+    static final int INT_MT_VENU = Enum.INT_MT_VENU;
+    static final int INT_MT_VESP = Enum.INT_MT_VESP;
+    static final int INT_MT_VICT = Enum.INT_MT_VICT;
+    static final int INT_MT_VILL = Enum.INT_MT_VILL;
+    static final int INT_MT_VINC = Enum.INT_MT_VINC;
+    static final int INT_MT_VLCN = Enum.INT_MT_VLCN;
+    static final int INT_MT_VLCT = Enum.INT_MT_VLCT;
+    static final int INT_MT_VNTO = Enum.INT_MT_VNTO;
+    static final int INT_MT_VREN = Enum.INT_MT_VREN;
+    static final int INT_MT_VTMT = Enum.INT_MT_VTMT;
+    static final int INT_MT_WASP = Enum.INT_MT_WASP;
+    static final int INT_MT_WAYN = Enum.INT_MT_WAYN;
+    static final int INT_MT_WHIT = Enum.INT_MT_WHIT;
+    static final int INT_MT_WHZR = Enum.INT_MT_WHZR;
+    static final int INT_MT_WILD = Enum.INT_MT_WILD;
+    static final int INT_MT_WILG = Enum.INT_MT_WILG;
+    static final int INT_MT_WILS = Enum.INT_MT_WILS;
+    static final int INT_MT_WSK = Enum.INT_MT_WSK;
+    static final int INT_MT_WTSN = Enum.INT_MT_WTSN;
+    static final int INT_MT_WWMC = Enum.INT_MT_WWMC;
+    static final int INT_MT_XTRM = Enum.INT_MT_XTRM;
+    static final int INT_MT_YAMA = Enum.INT_MT_YAMA;
+    static final int INT_MT_YANK = Enum.INT_MT_YANK;
+    static final int INT_MT_YENC = Enum.INT_MT_YENC;
+    static final int INT_MT_ZHON = Enum.INT_MT_ZHON;
+    static final int INT_MT_ZNEL = Enum.INT_MT_ZNEL;
+    static final int INT_MT_ZOBO = Enum.INT_MT_ZOBO;
+    static final int INT_MT_ZUND = Enum.INT_MT_ZUND;
+    static final int INT_MTBE = Enum.INT_MTBE;
+    static final int INT_MTCH = Enum.INT_MTCH;
+    static final int INT_MTCI = Enum.INT_MTCI;
+    static final int INT_MTD = Enum.INT_MTD;
+    static final int INT_MTMV = Enum.INT_MTMV;
+    static final int INT_MTPA = Enum.INT_MTPA;
+    static final int INT_MTPI = Enum.INT_MTPI;
+    static final int INT_MTRA = Enum.INT_MTRA;
+    static final int INT_MTRY = Enum.INT_MTRY;
+    static final int INT_MTTI = Enum.INT_MTTI;
+    static final int INT_MUDC = Enum.INT_MUDC;
+    static final int INT_MUHL = Enum.INT_MUHL;
+    static final int INT_MULE = Enum.INT_MULE;
+    static final int INT_MULL = Enum.INT_MULL;
+    static final int INT_MULQ = Enum.INT_MULQ;
+    static final int INT_MULT = Enum.INT_MULT;
+    static final int INT_MUNC = Enum.INT_MUNC;
+    static final int INT_MUNT = Enum.INT_MUNT;
+    static final int INT_MURE = Enum.INT_MURE;
+    static final int INT_MURM = Enum.INT_MURM;
+    static final int INT_MURP = Enum.INT_MURP;
+    static final int INT_MURR = Enum.INT_MURR;
+    static final int INT_MURT = Enum.INT_MURT;
+    static final int INT_MUSG = Enum.INT_MUSG;
+    static final int INT_MUST = Enum.INT_MUST;
+    static final int INT_MUVA = Enum.INT_MUVA;
+    static final int INT_MVAU = Enum.INT_MVAU;
+    static final int INT_MVEN = Enum.INT_MVEN;
+    static final int INT_MWCH = Enum.INT_MWCH;
+    static final int INT_MWGE = Enum.INT_MWGE;
+    static final int INT_MWMC = Enum.INT_MWMC;
+    static final int INT_MWST = Enum.INT_MWST;
+    static final int INT_MXAT = Enum.INT_MXAT;
+    static final int INT_MYCO = Enum.INT_MYCO;
+    static final int INT_MYFA = Enum.INT_MYFA;
+    static final int INT_MYWA = Enum.INT_MYWA;
+    static final int INT_MZ = Enum.INT_MZ;
+    static final int INT_MZMA = Enum.INT_MZMA;
+    static final int INT_NABO = Enum.INT_NABO;
+    static final int INT_NACR = Enum.INT_NACR;
+    static final int INT_NAHE = Enum.INT_NAHE;
+    static final int INT_NAMC = Enum.INT_NAMC;
+    static final int INT_NAMO = Enum.INT_NAMO;
+    static final int INT_NARD = Enum.INT_NARD;
+    static final int INT_NASA = Enum.INT_NASA;
+    static final int INT_NASH = Enum.INT_NASH;
+    static final int INT_NASM = Enum.INT_NASM;
+    static final int INT_NASU = Enum.INT_NASU;
+    static final int INT_NATL = Enum.INT_NATL;
+    static final int INT_NATW = Enum.INT_NATW;
+    static final int INT_NAVI = Enum.INT_NAVI;
+    static final int INT_NAVJ = Enum.INT_NAVJ;
+    static final int INT_NBAY = Enum.INT_NBAY;
+    static final int INT_NDMC = Enum.INT_NDMC;
+    static final int INT_NEAL = Enum.INT_NEAL;
+    static final int INT_NEBM = Enum.INT_NEBM;
+    static final int INT_NECK = Enum.INT_NECK;
+    static final int INT_NECT = Enum.INT_NECT;
+    static final int INT_NEDL = Enum.INT_NEDL;
+    static final int INT_NEGR = Enum.INT_NEGR;
+    static final int INT_NEHO = Enum.INT_NEHO;
+    static final int INT_NELL = Enum.INT_NELL;
+    static final int INT_NELN = Enum.INT_NELN;
+    static final int INT_NELS = Enum.INT_NELS;
+    static final int INT_NEOP = Enum.INT_NEOP;
+    static final int INT_NEOS = Enum.INT_NEOS;
+    static final int INT_NEPT = Enum.INT_NEPT;
+    static final int INT_NERC = Enum.INT_NERC;
+    static final int INT_NEUF = Enum.INT_NEUF;
+    static final int INT_NEVA = Enum.INT_NEVA;
+    static final int INT_NEVD = Enum.INT_NEVD;
+    static final int INT_NEVI = Enum.INT_NEVI;
+    static final int INT_NEVL = Enum.INT_NEVL;
+    static final int INT_NEVM = Enum.INT_NEVM;
+    static final int INT_NEWC = Enum.INT_NEWC;
+    static final int INT_NEWD = Enum.INT_NEWD;
+    static final int INT_NEWE = Enum.INT_NEWE;
+    static final int INT_NEWH = Enum.INT_NEWH;
+    static final int INT_NEWI = Enum.INT_NEWI;
+    static final int INT_NEWK = Enum.INT_NEWK;
+    static final int INT_NEWL = Enum.INT_NEWL;
+    static final int INT_NEWM = Enum.INT_NEWM;
+    static final int INT_NEWN = Enum.INT_NEWN;
+    static final int INT_NEWP = Enum.INT_NEWP;
+    static final int INT_NEWS = Enum.INT_NEWS;
+    static final int INT_NEWT = Enum.INT_NEWT;
+    static final int INT_NFLD = Enum.INT_NFLD;
+    static final int INT_NHYD = Enum.INT_NHYD;
+    static final int INT_NIAG = Enum.INT_NIAG;
+    static final int INT_NICE = Enum.INT_NICE;
+    
+    /**
+     * Enumeration value class for xmlbeans307.MaxAllowedEnumType.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_AAPX
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_AAPX = 1;
+        static final int INT_AARD = 2;
+        static final int INT_AATM = 3;
+        static final int INT_AATS = 4;
+        static final int INT_AAWL = 5;
+        static final int INT_AAWS = 6;
+        static final int INT_ABAR = 7;
+        static final int INT_ABBO = 8;
+        static final int INT_ABC = 9;
+        static final int INT_ABCC = 10;
+        static final int INT_ABCH = 11;
+        static final int INT_ABCO = 12;
+        static final int INT_ABER = 13;
+        static final int INT_ABFI = 14;
+        static final int INT_ABIA = 15;
+        static final int INT_ABTM = 16;
+        static final int INT_ABTR = 17;
+        static final int INT_AC = 18;
+        static final int INT_ACAD = 19;
+        static final int INT_ACAE = 20;
+        static final int INT_ACAI = 21;
+        static final int INT_ACCU = 22;
+        static final int INT_ACE = 23;
+        static final int INT_ACEC = 24;
+        static final int INT_ACEE = 25;
+        static final int INT_ACKN = 26;
+        static final int INT_ACME = 27;
+        static final int INT_ACMM = 28;
+        static final int INT_ACOR = 29;
+        static final int INT_ACRO = 30;
+        static final int INT_ACTD = 31;
+        static final int INT_ACTE = 32;
+        static final int INT_ACTO = 33;
+        static final int INT_ACUR = 34;
+        static final int INT_ADA = 35;
+        static final int INT_ADBV = 36;
+        static final int INT_ADDI = 37;
+        static final int INT_ADET = 38;
+        static final int INT_ADLR = 39;
+        static final int INT_ADMI = 40;
+        static final int INT_ADMS = 41;
+        static final int INT_ADMT = 42;
+        static final int INT_ADSP = 43;
+        static final int INT_ADVA = 44;
+        static final int INT_ADVE = 45;
+        static final int INT_ADVN = 46;
+        static final int INT_ADVS = 47;
+        static final int INT_AEAG = 48;
+        static final int INT_AELI = 49;
+        static final int INT_AERA = 50;
+        static final int INT_AERG = 51;
+        static final int INT_AERI = 52;
+        static final int INT_AERO = 53;
+        static final int INT_AETA = 54;
+        static final int INT_AGCH = 55;
+        static final int INT_AGCO = 56;
+        static final int INT_AGDC = 57;
+        static final int INT_AGRA = 58;
+        static final int INT_AGRI = 59;
+        static final int INT_AGRO = 60;
+        static final int INT_AGSY = 61;
+        static final int INT_AGTR = 62;
+        static final int INT_AGYL = 63;
+        static final int INT_AIH = 64;
+        static final int INT_AIRC = 65;
+        static final int INT_AIRE = 66;
+        static final int INT_AIRF = 67;
+        static final int INT_AIRI = 68;
+        static final int INT_AIRM = 69;
+        static final int INT_AIRO = 70;
+        static final int INT_AIRP = 71;
+        static final int INT_AIRS = 72;
+        static final int INT_AJAX = 73;
+        static final int INT_AJIN = 74;
+        static final int INT_AJS = 75;
+        static final int INT_AJTR = 76;
+        static final int INT_AJW = 77;
+        static final int INT_AJXE = 78;
+        static final int INT_ALAB = 79;
+        static final int INT_ALAD = 80;
+        static final int INT_ALAI = 81;
+        static final int INT_ALAR = 82;
+        static final int INT_ALAS = 83;
+        static final int INT_ALBE = 84;
+        static final int INT_ALCA = 85;
+        static final int INT_ALCI = 86;
+        static final int INT_ALCO = 87;
+        static final int INT_ALED = 88;
+        static final int INT_ALEN = 89;
+        static final int INT_ALEX = 90;
+        static final int INT_ALFA = 91;
+        static final int INT_ALFB = 92;
+        static final int INT_ALFO = 93;
+        static final int INT_ALIE = 94;
+        static final int INT_ALIS = 95;
+        static final int INT_ALJO = 96;
+        static final int INT_ALKO = 97;
+        static final int INT_ALL = 98;
+        static final int INT_ALLA = 99;
+        static final int INT_ALLB = 100;
+        static final int INT_ALLC = 101;
+        static final int INT_ALLD = 102;
+        static final int INT_ALLE = 103;
+        static final int INT_ALLF = 104;
+        static final int INT_ALLI = 105;
+        static final int INT_ALLK = 106;
+        static final int INT_ALLL = 107;
+        static final int INT_ALLM = 108;
+        static final int INT_ALLN = 109;
+        static final int INT_ALLO = 110;
+        static final int INT_ALLP = 111;
+        static final int INT_ALLR = 112;
+        static final int INT_ALLS = 113;
+        static final int INT_ALLT = 114;
+        static final int INT_ALLU = 115;
+        static final int INT_ALLW = 116;
+        static final int INT_ALMA = 117;
+        static final int INT_ALMC = 118;
+        static final int INT_ALMD = 119;
+        static final int INT_ALME = 120;
+        static final int INT_ALMI = 121;
+        static final int INT_ALMN = 122;
+        static final int INT_ALNM = 123;
+        static final int INT_ALOH = 124;
+        static final int INT_ALOU = 125;
+        static final int INT_ALPF = 126;
+        static final int INT_ALPH = 127;
+        static final int INT_ALPI = 128;
+        static final int INT_ALSE = 129;
+        static final int INT_ALSP = 130;
+        static final int INT_ALST = 131;
+        static final int INT_ALTA = 132;
+        static final int INT_ALTC = 133;
+        static final int INT_ALTE = 134;
+        static final int INT_ALUC = 135;
+        static final int INT_ALUE = 136;
+        static final int INT_ALUM = 137;
+        static final int INT_ALUT = 138;
+        static final int INT_ALVI = 139;
+        static final int INT_ALWY = 140;
+        static final int INT_ALYT = 141;
+        static final int INT_AM = 142;
+        static final int INT_AMAU = 143;
+        static final int INT_AMBA = 144;
+        static final int INT_AMC = 145;
+        static final int INT_AMCC = 146;
+        static final int INT_AMCM = 147;
+        static final int INT_AMCO = 148;
+        static final int INT_AMCP = 149;
+        static final int INT_AMCR = 150;
+        static final int INT_AMDB = 151;
+        static final int INT_AMDI = 152;
+        static final int INT_AME = 153;
+        static final int INT_AMEA = 154;
+        static final int INT_AMEB = 155;
+        static final int INT_AMEC = 156;
+        static final int INT_AMED = 157;
+        static final int INT_AMEE = 158;
+        static final int INT_AMEH = 159;
+        static final int INT_AMEI = 160;
+        static final int INT_AMEL = 161;
+        static final int INT_AMEM = 162;
+        static final int INT_AMEN = 163;
+        static final int INT_AMEP = 164;
+        static final int INT_AMER = 165;
+        static final int INT_AMES = 166;
+        static final int INT_AMET = 167;
+        static final int INT_AMF = 168;
+        static final int INT_AMFA = 169;
+        static final int INT_AMGN = 170;
+        static final int INT_AMHL = 171;
+        static final int INT_AMHO = 172;
+        static final int INT_AMI = 173;
+        static final int INT_AMIN = 174;
+        static final int INT_AMJE = 175;
+        static final int INT_AMLF = 176;
+        static final int INT_AMMA = 177;
+        static final int INT_AMME = 178;
+        static final int INT_AMPC = 179;
+        static final int INT_AMPF = 180;
+        static final int INT_AMPH = 181;
+        static final int INT_AMPT = 182;
+        static final int INT_AMQT = 183;
+        static final int INT_AMRC = 184;
+        static final int INT_AMRD = 185;
+        static final int INT_AMRI = 186;
+        static final int INT_AMRO = 187;
+        static final int INT_AMSW = 188;
+        static final int INT_AMT = 189;
+        static final int INT_AMTC = 190;
+        static final int INT_AMTN = 191;
+        static final int INT_AMTR = 192;
+        static final int INT_AMTS = 193;
+        static final int INT_AMYP = 194;
+        static final int INT_ANAL = 195;
+        static final int INT_ANCH = 196;
+        static final int INT_ANDE = 197;
+        static final int INT_ANDH = 198;
+        static final int INT_ANDI = 199;
+        static final int INT_ANDM = 200;
+        static final int INT_ANDR = 201;
+        static final int INT_ANDS = 202;
+        static final int INT_ANGE = 203;
+        static final int INT_ANGL = 204;
+        static final int INT_ANTH = 205;
+        static final int INT_ANTO = 206;
+        static final int INT_AOKT = 207;
+        static final int INT_AONE = 208;
+        static final int INT_APAC = 209;
+        static final int INT_APAE = 210;
+        static final int INT_APAH = 211;
+        static final int INT_APEC = 212;
+        static final int INT_APEX = 213;
+        static final int INT_APLE = 214;
+        static final int INT_APOL = 215;
+        static final int INT_APPA = 216;
+        static final int INT_APPL = 217;
+        static final int INT_APRI = 218;
+        static final int INT_AQCR = 219;
+        static final int INT_AQUA = 220;
+        static final int INT_AQUT = 221;
+        static final int INT_ARAB = 222;
+        static final int INT_ARCA = 223;
+        static final int INT_ARCC = 224;
+        static final int INT_ARCO = 225;
+        static final int INT_ARCT = 226;
+        static final int INT_AREC = 227;
+        static final int INT_ARGG = 228;
+        static final int INT_ARGO = 229;
+        static final int INT_ARGS = 230;
+        static final int INT_ARIC = 231;
+        static final int INT_ARIE = 232;
+        static final int INT_ARII = 233;
+        static final int INT_ARIN = 234;
+        static final int INT_ARIS = 235;
+        static final int INT_ARIT = 236;
+        static final int INT_ARLB = 237;
+        static final int INT_ARMA = 238;
+        static final int INT_ARMC = 239;
+        static final int INT_ARMH = 240;
+        static final int INT_ARMO = 241;
+        static final int INT_ARMR = 242;
+        static final int INT_ARMS = 243;
+        static final int INT_ARMT = 244;
+        static final int INT_ARND = 245;
+        static final int INT_ARNO = 246;
+        static final int INT_ARNT = 247;
+        static final int INT_AROM = 248;
+        static final int INT_AROS = 249;
+        static final int INT_ARPS = 250;
+        static final int INT_ARPT = 251;
+        static final int INT_ARRC = 252;
+        static final int INT_ARRM = 253;
+        static final int INT_ARRO = 254;
+        static final int INT_ARRT = 255;
+        static final int INT_ARRW = 256;
+        static final int INT_ARSC = 257;
+        static final int INT_ARSN = 258;
+        static final int INT_ARTA = 259;
+        static final int INT_ARTG = 260;
+        static final int INT_ARTH = 261;
+        static final int INT_ARTI = 262;
+        static final int INT_ARTX = 263;
+        static final int INT_ASA = 264;
+        static final int INT_ASBU = 265;
+        static final int INT_ASBY = 266;
+        static final int INT_ASHD = 267;
+        static final int INT_ASHL = 268;
+        static final int INT_ASHT = 269;
+        static final int INT_ASI = 270;
+        static final int INT_ASIN = 271;
+        static final int INT_ASM = 272;
+        static final int INT_ASMT = 273;
+        static final int INT_ASPE = 274;
+        static final int INT_ASPL = 275;
+        static final int INT_ASPS = 276;
+        static final int INT_ASPT = 277;
+        static final int INT_ASTO = 278;
+        static final int INT_ASTR = 279;
+        static final int INT_ASUN = 280;
+        static final int INT_ASVE = 281;
+        static final int INT_ATAS = 282;
+        static final int INT_ATCH = 283;
+        static final int INT_ATCO = 284;
+        static final int INT_ATEX = 285;
+        static final int INT_ATHE = 286;
+        static final int INT_ATK = 287;
+        static final int INT_ATLA = 288;
+        static final int INT_ATLC = 289;
+        static final int INT_ATLD = 290;
+        static final int INT_ATLN = 291;
+        static final int INT_ATLS = 292;
+        static final int INT_ATLT = 293;
+        static final int INT_ATOC = 294;
+        static final int INT_ATSP = 295;
+        static final int INT_ATTC = 296;
+        static final int INT_ATV = 297;
+        static final int INT_ATWO = 298;
+        static final int INT_AUBN = 299;
+        static final int INT_AUBU = 300;
+        static final int INT_AUDI = 301;
+        static final int INT_AUG = 302;
+        static final int INT_AUHE = 303;
+        static final int INT_AUKR = 304;
+        static final int INT_AUPR = 305;
+        static final int INT_AURA = 306;
+        static final int INT_AURO = 307;
+        static final int INT_AURR = 308;
+        static final int INT_AUST = 309;
+        static final int INT_AUTA = 310;
+        static final int INT_AUTB = 311;
+        static final int INT_AUTH = 312;
+        static final int INT_AUTI = 313;
+        static final int INT_AUTM = 314;
+        static final int INT_AUTO = 315;
+        static final int INT_AUTR = 316;
+        static final int INT_AUTS = 317;
+        static final int INT_AUTT = 318;
+        static final int INT_AUTU = 319;
+        static final int INT_AUWE = 320;
+        static final int INT_AVA = 321;
+        static final int INT_AVAC = 322;
+        static final int INT_AVAL = 323;
+        static final int INT_AVAN = 324;
+        static final int INT_AVAO = 325;
+        static final int INT_AVCO = 326;
+        static final int INT_AVEN = 327;
+        static final int INT_AVGN = 328;
+        static final int INT_AVIA = 329;
+        static final int INT_AVIO = 330;
+        static final int INT_AVTI = 331;
+        static final int INT_AWAY = 332;
+        static final int INT_AXLE = 333;
+        static final int INT_AYRW = 334;
+        static final int INT_AZAL = 335;
+        static final int INT_AZMF = 336;
+        static final int INT_AZTC = 337;
+        static final int INT_AZTE = 338;
+        static final int INT_AZTX = 339;
+        static final int INT_BABC = 340;
+        static final int INT_BACC = 341;
+        static final int INT_BADC = 342;
+        static final int INT_BADE = 343;
+        static final int INT_BADG = 344;
+        static final int INT_BADR = 345;
+        static final int INT_BAIL = 346;
+        static final int INT_BAIN = 347;
+        static final int INT_BAJA = 348;
+        static final int INT_BAKE = 349;
+        static final int INT_BAKI = 350;
+        static final int INT_BAKR = 351;
+        static final int INT_BALB = 352;
+        static final int INT_BALD = 353;
+        static final int INT_BALE = 354;
+        static final int INT_BALI = 355;
+        static final int INT_BALK = 356;
+        static final int INT_BALL = 357;
+        static final int INT_BALT = 358;
+        static final int INT_BALZ = 359;
+        static final int INT_BAMA = 360;
+        static final int INT_BAME = 361;
+        static final int INT_BAMH = 362;
+        static final int INT_BAND = 363;
+        static final int INT_BANH = 364;
+        static final int INT_BANK = 365;
+        static final int INT_BANM = 366;
+        static final int INT_BANN = 367;
+        static final int INT_BANT = 368;
+        static final int INT_BARA = 369;
+        static final int INT_BARB = 370;
+        static final int INT_BARC = 371;
+        static final int INT_BARE = 372;
+        static final int INT_BARH = 373;
+        static final int INT_BARI = 374;
+        static final int INT_BARK = 375;
+        static final int INT_BARL = 376;
+        static final int INT_BARN = 377;
+        static final int INT_BARO = 378;
+        static final int INT_BARR = 379;
+        static final int INT_BART = 380;
+        static final int INT_BASS = 381;
+        static final int INT_BATA = 382;
+        static final int INT_BATM = 383;
+        static final int INT_BAUG = 384;
+        static final int INT_BAY = 385;
+        static final int INT_BAYC = 386;
+        static final int INT_BBCB = 387;
+        static final int INT_BBCH = 388;
+        static final int INT_BBEE = 389;
+        static final int INT_BBTM = 390;
+        static final int INT_BBW = 391;
+        static final int INT_BCMW = 392;
+        static final int INT_BDFL = 393;
+        static final int INT_BEAC = 394;
+        static final int INT_BEAD = 395;
+        static final int INT_BEAE = 396;
+        static final int INT_BEAI = 397;
+        static final int INT_BEAL = 398;
+        static final int INT_BEAM = 399;
+        static final int INT_BEAN = 400;
+        static final int INT_BEAR = 401;
+        static final int INT_BEAT = 402;
+        static final int INT_BEAV = 403;
+        static final int INT_BEBE = 404;
+        static final int INT_BEBO = 405;
+        static final int INT_BEC = 406;
+        static final int INT_BECK = 407;
+        static final int INT_BEDE = 408;
+        static final int INT_BEDF = 409;
+        static final int INT_BEDX = 410;
+        static final int INT_BEEA = 411;
+        static final int INT_BEEC = 412;
+        static final int INT_BEEE = 413;
+        static final int INT_BEEG = 414;
+        static final int INT_BEEH = 415;
+        static final int INT_BEEM = 416;
+        static final int INT_BEET = 417;
+        static final int INT_BEJE = 418;
+        static final int INT_BELA = 419;
+        static final int INT_BELE = 420;
+        static final int INT_BELF = 421;
+        static final int INT_BELH = 422;
+        static final int INT_BELL = 423;
+        static final int INT_BELN = 424;
+        static final int INT_BELP = 425;
+        static final int INT_BELR = 426;
+        static final int INT_BELS = 427;
+        static final int INT_BELT = 428;
+        static final int INT_BELU = 429;
+        static final int INT_BELV = 430;
+        static final int INT_BENE = 431;
+        static final int INT_BENL = 432;
+        static final int INT_BENS = 433;
+        static final int INT_BENT = 434;
+        static final int INT_BEPO = 435;
+        static final int INT_BERE = 436;
+        static final int INT_BERG = 437;
+        static final int INT_BERH = 438;
+        static final int INT_BERK = 439;
+        static final int INT_BERM = 440;
+        static final int INT_BERO = 441;
+        static final int INT_BERR = 442;
+        static final int INT_BERT = 443;
+        static final int INT_BERV = 444;
+        static final int INT_BESA = 445;
+        static final int INT_BETA = 446;
+        static final int INT_BETE = 447;
+        static final int INT_BETH = 448;
+        static final int INT_BETT = 449;
+        static final int INT_BEVR = 450;
+        static final int INT_BFOS = 451;
+        static final int INT_BGDG = 452;
+        static final int INT_BGHM = 453;
+        static final int INT_BHNK = 454;
+        static final int INT_BIAN = 455;
+        static final int INT_BIBB = 456;
+        static final int INT_BIEW = 457;
+        static final int INT_BIGB = 458;
+        static final int INT_BIGH = 459;
+        static final int INT_BIGI = 460;
+        static final int INT_BIGJ = 461;
+        static final int INT_BIGT = 462;
+        static final int INT_BIGV = 463;
+        static final int INT_BILE = 464;
+        static final int INT_BILK = 465;
+        static final int INT_BILL = 466;
+        static final int INT_BILR = 467;
+        static final int INT_BILT = 468;
+        static final int INT_BIMO = 469;
+        static final int INT_BINK = 470;
+        static final int INT_BINS = 471;
+        static final int INT_BIOT = 472;
+        static final int INT_BIRD = 473;
+        static final int INT_BIRE = 474;
+        static final int INT_BIRM = 475;
+        static final int INT_BITT = 476;
+        static final int INT_BIVO = 477;
+        static final int INT_BIZZ = 478;
+        static final int INT_BJAA = 479;
+        static final int INT_BJCT = 480;
+        static final int INT_BJEN = 481;
+        static final int INT_BJMC = 482;
+        static final int INT_BJMS = 483;
+        static final int INT_BKDN = 484;
+        static final int INT_BKHM = 485;
+        static final int INT_BLAB = 486;
+        static final int INT_BLAC = 487;
+        static final int INT_BLAE = 488;
+        static final int INT_BLAH = 489;
+        static final int INT_BLAI = 490;
+        static final int INT_BLAK = 491;
+        static final int INT_BLAO = 492;
+        static final int INT_BLAR = 493;
+        static final int INT_BLAS = 494;
+        static final int INT_BLAW = 495;
+        static final int INT_BLAZ = 496;
+        static final int INT_BLDC = 497;
+        static final int INT_BLGA = 498;
+        static final int INT_BLIN = 499;
+        static final int INT_BLIT = 500;
+        static final int INT_BLIX = 501;
+        static final int INT_BLKE = 502;
+        static final int INT_BLLV = 503;
+        static final int INT_BLMT = 504;
+        static final int INT_BLOM = 505;
+        static final int INT_BLOO = 506;
+        static final int INT_BLRG = 507;
+        static final int INT_BLST = 508;
+        static final int INT_BLTR = 509;
+        static final int INT_BLUB = 510;
+        static final int INT_BLUE = 511;
+        static final int INT_BLUG = 512;
+        static final int INT_BLUI = 513;
+        static final int INT_BLUJ = 514;
+        static final int INT_BMBM = 515;
+        static final int INT_BMBR = 516;
+        static final int INT_BMC = 517;
+        static final int INT_BMMF = 518;
+        static final int INT_BMTR = 519;
+        static final int INT_BMW = 520;
+        static final int INT_BNDR = 521;
+        static final int INT_BNDT = 522;
+        static final int INT_BNHR = 523;
+        static final int INT_BNST = 524;
+        static final int INT_BNTM = 525;
+        static final int INT_BNZA = 526;
+        static final int INT_BOAN = 527;
+        static final int INT_BOAR = 528;
+        static final int INT_BOAS = 529;
+        static final int INT_BOAT = 530;
+        static final int INT_BOB = 531;
+        static final int INT_BOBB = 532;
+        static final int INT_BOBC = 533;
+        static final int INT_BOBK = 534;
+        static final int INT_BOBM = 535;
+        static final int INT_BOCA = 536;
+        static final int INT_BOCE = 537;
+        static final int INT_BOCK = 538;
+        static final int INT_BOCS = 539;
+        static final int INT_BOER = 540;
+        static final int INT_BOIS = 541;
+        static final int INT_BOLA = 542;
+        static final int INT_BOLG = 543;
+        static final int INT_BOMA = 544;
+        static final int INT_BOMB = 545;
+        static final int INT_BOMF = 546;
+        static final int INT_BOMG = 547;
+        static final int INT_BONA = 548;
+        static final int INT_BONC = 549;
+        static final int INT_BOND = 550;
+        static final int INT_BONE = 551;
+        static final int INT_BONI = 552;
+        static final int INT_BOON = 553;
+        static final int INT_BORC = 554;
+        static final int INT_BORF = 555;
+        static final int INT_BORG = 556;
+        static final int INT_BOSS = 557;
+        static final int INT_BOTL = 558;
+        static final int INT_BOUL = 559;
+        static final int INT_BOWE = 560;
+        static final int INT_BOWI = 561;
+        static final int INT_BOWM = 562;
+        static final int INT_BOWN = 563;
+        static final int INT_BOWS = 564;
+        static final int INT_BOXR = 565;
+        static final int INT_BOYD = 566;
+        static final int INT_BOYR = 567;
+        static final int INT_BRAC = 568;
+        static final int INT_BRAD = 569;
+        static final int INT_BRAF = 570;
+        static final int INT_BRAL = 571;
+        static final int INT_BRAN = 572;
+        static final int INT_BRAS = 573;
+        static final int INT_BRAT = 574;
+        static final int INT_BRAU = 575;
+        static final int INT_BRAV = 576;
+        static final int INT_BRAW = 577;
+        static final int INT_BRAY = 578;
+        static final int INT_BRCO = 579;
+        static final int INT_BRCT = 580;
+        static final int INT_BRCV = 581;
+        static final int INT_BRDC = 582;
+        static final int INT_BRDK = 583;
+        static final int INT_BRDL = 584;
+        static final int INT_BRDR = 585;
+        static final int INT_BREE = 586;
+        static final int INT_BREI = 587;
+        static final int INT_BREK = 588;
+        static final int INT_BREM = 589;
+        static final int INT_BREN = 590;
+        static final int INT_BRET = 591;
+        static final int INT_BREW = 592;
+        static final int INT_BREZ = 593;
+        static final int INT_BRGS = 594;
+        static final int INT_BRIC = 595;
+        static final int INT_BRID = 596;
+        static final int INT_BRIE = 597;
+        static final int INT_BRIG = 598;
+        static final int INT_BRIH = 599;
+        static final int INT_BRIL = 600;
+        static final int INT_BRIO = 601;
+        static final int INT_BRIS = 602;
+        static final int INT_BRIT = 603;
+        static final int INT_BRKW = 604;
+        static final int INT_BRLL = 605;
+        static final int INT_BRMR = 606;
+        static final int INT_BRND = 607;
+        static final int INT_BRNG = 608;
+        static final int INT_BROA = 609;
+        static final int INT_BROB = 610;
+        static final int INT_BROC = 611;
+        static final int INT_BROD = 612;
+        static final int INT_BROE = 613;
+        static final int INT_BROH = 614;
+        static final int INT_BROK = 615;
+        static final int INT_BRON = 616;
+        static final int INT_BROO = 617;
+        static final int INT_BROR = 618;
+        static final int INT_BROS = 619;
+        static final int INT_BROT = 620;
+        static final int INT_BROU = 621;
+        static final int INT_BROW = 622;
+        static final int INT_BROY = 623;
+        static final int INT_BRRO = 624;
+        static final int INT_BRSH = 625;
+        static final int INT_BRST = 626;
+        static final int INT_BRTE = 627;
+        static final int INT_BRTI = 628;
+        static final int INT_BRTO = 629;
+        static final int INT_BRTR = 630;
+        static final int INT_BRTT = 631;
+        static final int INT_BRUN = 632;
+        static final int INT_BRUT = 633;
+        static final int INT_BRUZ = 634;
+        static final int INT_BRWD = 635;
+        static final int INT_BRWN = 636;
+        static final int INT_BSA = 637;
+        static final int INT_BSB = 638;
+        static final int INT_BTEC = 639;
+        static final int INT_BTVS = 640;
+        static final int INT_BUCC = 641;
+        static final int INT_BUCI = 642;
+        static final int INT_BUCK = 643;
+        static final int INT_BUCM = 644;
+        static final int INT_BUCN = 645;
+        static final int INT_BUCO = 646;
+        static final int INT_BUCS = 647;
+        static final int INT_BUCY = 648;
+        static final int INT_BUDC = 649;
+        static final int INT_BUDD = 650;
+        static final int INT_BUDG = 651;
+        static final int INT_BUDR = 652;
+        static final int INT_BUDS = 653;
+        static final int INT_BUEL = 654;
+        static final int INT_BUFF = 655;
+        static final int INT_BUG = 656;
+        static final int INT_BUGA = 657;
+        static final int INT_BUHL = 658;
+        static final int INT_BUIC = 659;
+        static final int INT_BUIL = 660;
+        static final int INT_BULK = 661;
+        static final int INT_BULL = 662;
+        static final int INT_BULM = 663;
+        static final int INT_BULT = 664;
+        static final int INT_BUNT = 665;
+        static final int INT_BUNY = 666;
+        static final int INT_BURC = 667;
+        static final int INT_BURE = 668;
+        static final int INT_BURK = 669;
+        static final int INT_BURL = 670;
+        static final int INT_BURN = 671;
+        static final int INT_BURO = 672;
+        static final int INT_BURR = 673;
+        static final int INT_BUSH = 674;
+        static final int INT_BUSO = 675;
+        static final int INT_BUSP = 676;
+        static final int INT_BUTE = 677;
+        static final int INT_BUTL = 678;
+        static final int INT_BUTT = 679;
+        static final int INT_BVCR = 680;
+        static final int INT_BWAY = 681;
+        static final int INT_BWHO = 682;
+        static final int INT_BYER = 683;
+        static final int INT_BYMW = 684;
+        static final int INT_BYOR = 685;
+        static final int INT_BYRM = 686;
+        static final int INT_BYRS = 687;
+        static final int INT_BYSN = 688;
+        static final int INT_BZEL = 689;
+        static final int INT_CAAR = 690;
+        static final int INT_CABA = 691;
+        static final int INT_CABK = 692;
+        static final int INT_CACA = 693;
+        static final int INT_CACR = 694;
+        static final int INT_CACV = 695;
+        static final int INT_CACY = 696;
+        static final int INT_CADE = 697;
+        static final int INT_CADF = 698;
+        static final int INT_CADI = 699;
+        static final int INT_CAFF = 700;
+        static final int INT_CAGI = 701;
+        static final int INT_CAHA = 702;
+        static final int INT_CALC = 703;
+        static final int INT_CALD = 704;
+        static final int INT_CALF = 705;
+        static final int INT_CALH = 706;
+        static final int INT_CALI = 707;
+        static final int INT_CALK = 708;
+        static final int INT_CALL = 709;
+        static final int INT_CALM = 710;
+        static final int INT_CALN = 711;
+        static final int INT_CALO = 712;
+        static final int INT_CALS = 713;
+        static final int INT_CALT = 714;
+        static final int INT_CALU = 715;
+        static final int INT_CALW = 716;
+        static final int INT_CALY = 717;
+        static final int INT_CAMA = 718;
+        static final int INT_CAMB = 719;
+        static final int INT_CAMC = 720;
+        static final int INT_CAMD = 721;
+        static final int INT_CAME = 722;
+        static final int INT_CAMF = 723;
+        static final int INT_CAMI = 724;
+        static final int INT_CAML = 725;
+        static final int INT_CAMM = 726;
+        static final int INT_CAMO = 727;
+        static final int INT_CAMP = 728;
+        static final int INT_CAMR = 729;
+        static final int INT_CAMS = 730;
+        static final int INT_CAMT = 731;
+        static final int INT_CAMU = 732;
+        static final int INT_CAMV = 733;
+        static final int INT_CAMY = 734;
+        static final int INT_CANA = 735;
+        static final int INT_CANC = 736;
+        static final int INT_CAND = 737;
+        static final int INT_CANE = 738;
+        static final int INT_CANG = 739;
+        static final int INT_CANN = 740;
+        static final int INT_CANO = 741;
+        static final int INT_CANS = 742;
+        static final int INT_CANT = 743;
+        static final int INT_CAP = 744;
+        static final int INT_CAPA = 745;
+        static final int INT_CAPC = 746;
+        static final int INT_CAPE = 747;
+        static final int INT_CAPH = 748;
+        static final int INT_CAPI = 749;
+        static final int INT_CAPL = 750;
+        static final int INT_CAPM = 751;
+        static final int INT_CAPR = 752;
+        static final int INT_CAPT = 753;
+        static final int INT_CARA = 754;
+        static final int INT_CARB = 755;
+        static final int INT_CARC = 756;
+        static final int INT_CARD = 757;
+        static final int INT_CARE = 758;
+        static final int INT_CARF = 759;
+        static final int INT_CARG = 760;
+        static final int INT_CARH = 761;
+        static final int INT_CARI = 762;
+        static final int INT_CARK = 763;
+        static final int INT_CARL = 764;
+        static final int INT_CARM = 765;
+        static final int INT_CARN = 766;
+        static final int INT_CARO = 767;
+        static final int INT_CARP = 768;
+        static final int INT_CARR = 769;
+        static final int INT_CARS = 770;
+        static final int INT_CART = 771;
+        static final int INT_CARW = 772;
+        static final int INT_CARY = 773;
+        static final int INT_CASA = 774;
+        static final int INT_CASC = 775;
+        static final int INT_CASE = 776;
+        static final int INT_CASH = 777;
+        static final int INT_CASL = 778;
+        static final int INT_CASR = 779;
+        static final int INT_CAST = 780;
+        static final int INT_CAT = 781;
+        static final int INT_CATA = 782;
+        static final int INT_CATI = 783;
+        static final int INT_CATL = 784;
+        static final int INT_CATM = 785;
+        static final int INT_CATO = 786;
+        static final int INT_CAUL = 787;
+        static final int INT_CAVA = 788;
+        static final int INT_CAVC = 789;
+        static final int INT_CAVE = 790;
+        static final int INT_CAVL = 791;
+        static final int INT_CBCM = 792;
+        static final int INT_CBMA = 793;
+        static final int INT_CBRA = 794;
+        static final int INT_CBRO = 795;
+        static final int INT_CBTL = 796;
+        static final int INT_CBUT = 797;
+        static final int INT_CCC = 798;
+        static final int INT_CCCY = 799;
+        static final int INT_CCDI = 800;
+        static final int INT_CCMF = 801;
+        static final int INT_CCMH = 802;
+        static final int INT_CCTI = 803;
+        static final int INT_CEEZ = 804;
+        static final int INT_CEIQ = 805;
+        static final int INT_CENA = 806;
+        static final int INT_CENI = 807;
+        static final int INT_CENR = 808;
+        static final int INT_CENT = 809;
+        static final int INT_CENU = 810;
+        static final int INT_CENY = 811;
+        static final int INT_CERT = 812;
+        static final int INT_CEVA = 813;
+        static final int INT_CEZE = 814;
+        static final int INT_CFBT = 815;
+        static final int INT_CFCH = 816;
+        static final int INT_CGMT = 817;
+        static final int INT_CGXP = 818;
+        static final int INT_CHAC = 819;
+        static final int INT_CHAE = 820;
+        static final int INT_CHAG = 821;
+        static final int INT_CHAH = 822;
+        static final int INT_CHAI = 823;
+        static final int INT_CHAL = 824;
+        static final int INT_CHAM = 825;
+        static final int INT_CHAP = 826;
+        static final int INT_CHAR = 827;
+        static final int INT_CHAT = 828;
+        static final int INT_CHAU = 829;
+        static final int INT_CHCI = 830;
+        static final int INT_CHCO = 831;
+        static final int INT_CHEC = 832;
+        static final int INT_CHEE = 833;
+        static final int INT_CHEM = 834;
+        static final int INT_CHEN = 835;
+        static final int INT_CHEO = 836;
+        static final int INT_CHEP = 837;
+        static final int INT_CHER = 838;
+        static final int INT_CHES = 839;
+        static final int INT_CHET = 840;
+        static final int INT_CHEV = 841;
+        static final int INT_CHEX = 842;
+        static final int INT_CHFB = 843;
+        static final int INT_CHIA = 844;
+        static final int INT_CHIB = 845;
+        static final int INT_CHIC = 846;
+        static final int INT_CHIE = 847;
+        static final int INT_CHII = 848;
+        static final int INT_CHIL = 849;
+        static final int INT_CHIM = 850;
+        static final int INT_CHIN = 851;
+        static final int INT_CHIP = 852;
+        static final int INT_CHIS = 853;
+        static final int INT_CHKE = 854;
+        static final int INT_CHKG = 855;
+        static final int INT_CHLG = 856;
+        static final int INT_CHLY = 857;
+        static final int INT_CHMC = 858;
+        static final int INT_CHMP = 859;
+        static final int INT_CHNO = 860;
+        static final int INT_CHOC = 861;
+        static final int INT_CHPL = 862;
+        static final int INT_CHPM = 863;
+        static final int INT_CHPN = 864;
+        static final int INT_CHPR = 865;
+        static final int INT_CHPT = 866;
+        static final int INT_CHRI = 867;
+        static final int INT_CHRO = 868;
+        static final int INT_CHRS = 869;
+        static final int INT_CHRV = 870;
+        static final int INT_CHRY = 871;
+        static final int INT_CHTH = 872;
+        static final int INT_CHTM = 873;
+        static final int INT_CHUC = 874;
+        static final int INT_CHUK = 875;
+        static final int INT_CHVL = 876;
+        static final int INT_CHYI = 877;
+        static final int INT_CICC = 878;
+        static final int INT_CIMA = 879;
+        static final int INT_CIMC = 880;
+        static final int INT_CIMR = 881;
+        static final int INT_CIRC = 882;
+        static final int INT_CIRD = 883;
+        static final int INT_CIRH = 884;
+        static final int INT_CIRK = 885;
+        static final int INT_CIRM = 886;
+        static final int INT_CIRV = 887;
+        static final int INT_CISI = 888;
+        static final int INT_CITA = 889;
+        static final int INT_CITI = 890;
+        static final int INT_CITR = 891;
+        static final int INT_CITY = 892;
+        static final int INT_CIWE = 893;
+        static final int INT_CJGC = 894;
+        static final int INT_CLAA = 895;
+        static final int INT_CLAB = 896;
+        static final int INT_CLAC = 897;
+        static final int INT_CLAI = 898;
+        static final int INT_CLAM = 899;
+        static final int INT_CLAN = 900;
+        static final int INT_CLAR = 901;
+        static final int INT_CLAS = 902;
+        static final int INT_CLAT = 903;
+        static final int INT_CLAX = 904;
+        static final int INT_CLAY = 905;
+        static final int INT_CLAZ = 906;
+        static final int INT_CLBR = 907;
+        static final int INT_CLCO = 908;
+        static final int INT_CLEA = 909;
+        static final int INT_CLEG = 910;
+        static final int INT_CLEM = 911;
+        static final int INT_CLEN = 912;
+        static final int INT_CLEV = 913;
+        static final int INT_CLIF = 914;
+        static final int INT_CLIH = 915;
+        static final int INT_CLIN = 916;
+        static final int INT_CLIP = 917;
+        static final int INT_CLIT = 918;
+        static final int INT_CLMB = 919;
+        static final int INT_CLMC = 920;
+        static final int INT_CLMN = 921;
+        static final int INT_CLON = 922;
+        static final int INT_CLOU = 923;
+        static final int INT_CLSS = 924;
+        static final int INT_CLST = 925;
+        static final int INT_CLUA = 926;
+        static final int INT_CLUM = 927;
+        static final int INT_CLVA = 928;
+        static final int INT_CLVR = 929;
+        static final int INT_CLWX = 930;
+        static final int INT_CLYP = 931;
+        static final int INT_CMAC = 932;
+        static final int INT_CMBL = 933;
+        static final int INT_CMCC = 934;
+        static final int INT_CMCI = 935;
+        static final int INT_CMCO = 936;
+        static final int INT_CMCW = 937;
+        static final int INT_CMEO = 938;
+        static final int INT_CMFB = 939;
+        static final int INT_CMIC = 940;
+        static final int INT_CMIL = 941;
+        static final int INT_CMMS = 942;
+        static final int INT_CMOR = 943;
+        static final int INT_CMPF = 944;
+        static final int INT_CMPG = 945;
+        static final int INT_CMPS = 946;
+        static final int INT_CMPT = 947;
+        static final int INT_CMSU = 948;
+        static final int INT_CMWC = 949;
+        static final int INT_CNLS = 950;
+        static final int INT_CNMI = 951;
+        static final int INT_CNRD = 952;
+        static final int INT_CNRY = 953;
+        static final int INT_CNST = 954;
+        static final int INT_CNTL = 955;
+        static final int INT_CNTR = 956;
+        static final int INT_CNWD = 957;
+        static final int INT_COAC = 958;
+        static final int INT_COAH = 959;
+        static final int INT_COAI = 960;
+        static final int INT_COAM = 961;
+        static final int INT_COAS = 962;
+        static final int INT_COBM = 963;
+        static final int INT_COBR = 964;
+        static final int INT_COBU = 965;
+        static final int INT_COCF = 966;
+        static final int INT_COCH = 967;
+        static final int INT_COCL = 968;
+        static final int INT_COCO = 969;
+        static final int INT_COCP = 970;
+        static final int INT_CODY = 971;
+        static final int INT_COEQ = 972;
+        static final int INT_COLB = 973;
+        static final int INT_COLE = 974;
+        static final int INT_COLF = 975;
+        static final int INT_COLG = 976;
+        static final int INT_COLL = 977;
+        static final int INT_COLM = 978;
+        static final int INT_COLO = 979;
+        static final int INT_COLP = 980;
+        static final int INT_COLS = 981;
+        static final int INT_COLT = 982;
+        static final int INT_COLU = 983;
+        static final int INT_COMA = 984;
+        static final int INT_COMC = 985;
+        static final int INT_COMD = 986;
+        static final int INT_COME = 987;
+        static final int INT_COMI = 988;
+        static final int INT_COML = 989;
+        static final int INT_COMM = 990;
+        static final int INT_COMN = 991;
+        static final int INT_COMO = 992;
+        static final int INT_COMP = 993;
+        static final int INT_COMR = 994;
+        static final int INT_COMT = 995;
+        static final int INT_COMU = 996;
+        static final int INT_COMV = 997;
+        static final int INT_COMY = 998;
+        static final int INT_CONC = 999;
+        static final int INT_COND = 1000;
+        static final int INT_CONE = 1001;
+        static final int INT_CONF = 1002;
+        static final int INT_CONG = 1003;
+        static final int INT_CONH = 1004;
+        static final int INT_CONI = 1005;
+        static final int INT_CONL = 1006;
+        static final int INT_CONM = 1007;
+        static final int INT_CONN = 1008;
+        static final int INT_CONO = 1009;
+        static final int INT_CONP = 1010;
+        static final int INT_CONR = 1011;
+        static final int INT_CONS = 1012;
+        static final int INT_CONT = 1013;
+        static final int INT_CONU = 1014;
+        static final int INT_CONV = 1015;
+        static final int INT_CONW = 1016;
+        static final int INT_CONX = 1017;
+        static final int INT_CONY = 1018;
+        static final int INT_CONZ = 1019;
+        static final int INT_COOE = 1020;
+        static final int INT_COOK = 1021;
+        static final int INT_COON = 1022;
+        static final int INT_COOP = 1023;
+        static final int INT_COOS = 1024;
+        static final int INT_COPA = 1025;
+        static final int INT_COPC = 1026;
+        static final int INT_COPP = 1027;
+        static final int INT_CORB = 1028;
+        static final int INT_CORD = 1029;
+        static final int INT_CORG = 1030;
+        static final int INT_CORN = 1031;
+        static final int INT_CORO = 1032;
+        static final int INT_CORR = 1033;
+        static final int INT_CORS = 1034;
+        static final int INT_CORT = 1035;
+        static final int INT_CORV = 1036;
+        static final int INT_CORY = 1037;
+        static final int INT_COSM = 1038;
+        static final int INT_COSU = 1039;
+        static final int INT_COT = 1040;
+        static final int INT_COTC = 1041;
+        static final int INT_COTN = 1042;
+        static final int INT_COTT = 1043;
+        static final int INT_COTZ = 1044;
+        static final int INT_COUA = 1045;
+        static final int INT_COUB = 1046;
+        static final int INT_COUI = 1047;
+        static final int INT_COUN = 1048;
+        static final int INT_COUR = 1049;
+        static final int INT_COVE = 1050;
+        static final int INT_COWM = 1051;
+        static final int INT_COWY = 1052;
+        static final int INT_COXS = 1053;
+        static final int INT_COYN = 1054;
+        static final int INT_COYO = 1055;
+        static final int INT_COZA = 1056;
+        static final int INT_CPNK = 1057;
+        static final int INT_CPPR = 1058;
+        static final int INT_CPTC = 1059;
+        static final int INT_CPTN = 1060;
+        static final int INT_CPTV = 1061;
+        static final int INT_CRAF = 1062;
+        static final int INT_CRAM = 1063;
+        static final int INT_CRAN = 1064;
+        static final int INT_CRAW = 1065;
+        static final int INT_CRCF = 1066;
+        static final int INT_CRCN = 1067;
+        static final int INT_CRCO = 1068;
+        static final int INT_CREE = 1069;
+        static final int INT_CREL = 1070;
+        static final int INT_CREO = 1071;
+        static final int INT_CREQ = 1072;
+        static final int INT_CRET = 1073;
+        static final int INT_CREX = 1074;
+        static final int INT_CRFI = 1075;
+        static final int INT_CRFT = 1076;
+        static final int INT_CRGK = 1077;
+        static final int INT_CRGO = 1078;
+        static final int INT_CRGP = 1079;
+        static final int INT_CRGR = 1080;
+        static final int INT_CRI = 1081;
+        static final int INT_CRIC = 1082;
+        static final int INT_CRIM = 1083;
+        static final int INT_CRIT = 1084;
+        static final int INT_CRKG = 1085;
+        static final int INT_CRLY = 1086;
+        static final int INT_CRMT = 1087;
+        static final int INT_CRNP = 1088;
+        static final int INT_CROE = 1089;
+        static final int INT_CROF = 1090;
+        static final int INT_CROH = 1091;
+        static final int INT_CROI = 1092;
+        static final int INT_CRON = 1093;
+        static final int INT_CROR = 1094;
+        static final int INT_CROS = 1095;
+        static final int INT_CROT = 1096;
+        static final int INT_CROW = 1097;
+        static final int INT_CRPT = 1098;
+        static final int INT_CRRN = 1099;
+        static final int INT_CRST = 1100;
+        static final int INT_CRUI = 1101;
+        static final int INT_CRUM = 1102;
+        static final int INT_CRVM = 1103;
+        static final int INT_CRWE = 1104;
+        static final int INT_CRYS = 1105;
+        static final int INT_CSHM = 1106;
+        static final int INT_CSMC = 1107;
+        static final int INT_CSMM = 1108;
+        static final int INT_CSTL = 1109;
+        static final int INT_CSTM = 1110;
+        static final int INT_CSTW = 1111;
+        static final int INT_CTEC = 1112;
+        static final int INT_CTRC = 1113;
+        static final int INT_CTRI = 1114;
+        static final int INT_CTSI = 1115;
+        static final int INT_CTTM = 1116;
+        static final int INT_CUAP = 1117;
+        static final int INT_CUAS = 1118;
+        static final int INT_CUBC = 1119;
+        static final int INT_CUBS = 1120;
+        static final int INT_CUKE = 1121;
+        static final int INT_CUKH = 1122;
+        static final int INT_CULL = 1123;
+        static final int INT_CULN = 1124;
+        static final int INT_CULP = 1125;
+        static final int INT_CUMB = 1126;
+        static final int INT_CUNN = 1127;
+        static final int INT_CURB = 1128;
+        static final int INT_CURR = 1129;
+        static final int INT_CURT = 1130;
+        static final int INT_CUSA = 1131;
+        static final int INT_CUSB = 1132;
+        static final int INT_CUSC = 1133;
+        static final int INT_CUSE = 1134;
+        static final int INT_CUSF = 1135;
+        static final int INT_CUSH = 1136;
+        static final int INT_CUSI = 1137;
+        static final int INT_CUSL = 1138;
+        static final int INT_CUSM = 1139;
+        static final int INT_CUSO = 1140;
+        static final int INT_CUST = 1141;
+        static final int INT_CUTU = 1142;
+        static final int INT_CUYL = 1143;
+        static final int INT_CVLO = 1144;
+        static final int INT_CVWE = 1145;
+        static final int INT_CWCF = 1146;
+        static final int INT_CWPC = 1147;
+        static final int INT_CWTR = 1148;
+        static final int INT_CYCK = 1149;
+        static final int INT_CYCL = 1150;
+        static final int INT_CYSC = 1151;
+        static final int INT_CZ = 1152;
+        static final int INT_DABR = 1153;
+        static final int INT_DACO = 1154;
+        static final int INT_DAEW = 1155;
+        static final int INT_DAF = 1156;
+        static final int INT_DAFF = 1157;
+        static final int INT_DAIH = 1158;
+        static final int INT_DAIM = 1159;
+        static final int INT_DAIN = 1160;
+        static final int INT_DAIR = 1161;
+        static final int INT_DAKO = 1162;
+        static final int INT_DALE = 1163;
+        static final int INT_DALI = 1164;
+        static final int INT_DALT = 1165;
+        static final int INT_DALW = 1166;
+        static final int INT_DAMO = 1167;
+        static final int INT_DANA = 1168;
+        static final int INT_DANB = 1169;
+        static final int INT_DAND = 1170;
+        static final int INT_DANT = 1171;
+        static final int INT_DANU = 1172;
+        static final int INT_DANZ = 1173;
+        static final int INT_DARB = 1174;
+        static final int INT_DARC = 1175;
+        static final int INT_DARF = 1176;
+        static final int INT_DARG = 1177;
+        static final int INT_DART = 1178;
+        static final int INT_DARV = 1179;
+        static final int INT_DARW = 1180;
+        static final int INT_DATO = 1181;
+        static final int INT_DATR = 1182;
+        static final int INT_DATS = 1183;
+        static final int INT_DAUP = 1184;
+        static final int INT_DAVC = 1185;
+        static final int INT_DAVD = 1186;
+        static final int INT_DAVE = 1187;
+        static final int INT_DAVI = 1188;
+        static final int INT_DAVN = 1189;
+        static final int INT_DAVO = 1190;
+        static final int INT_DAVY = 1191;
+        static final int INT_DAWE = 1192;
+        static final int INT_DAWS = 1193;
+        static final int INT_DAYB = 1194;
+        static final int INT_DAYO = 1195;
+        static final int INT_DAYS = 1196;
+        static final int INT_DAYT = 1197;
+        static final int INT_DAZN = 1198;
+        static final int INT_DB = 1199;
+        static final int INT_DBDL = 1200;
+        static final int INT_DCCS = 1201;
+        static final int INT_DCNT = 1202;
+        static final int INT_DCTR = 1203;
+        static final int INT_DD = 1204;
+        static final int INT_DDFB = 1205;
+        static final int INT_DDTI = 1206;
+        static final int INT_DEAL = 1207;
+        static final int INT_DEAN = 1208;
+        static final int INT_DEBO = 1209;
+        static final int INT_DECA = 1210;
+        static final int INT_DECO = 1211;
+        static final int INT_DEEP = 1212;
+        static final int INT_DEER = 1213;
+        static final int INT_DEGE = 1214;
+        static final int INT_DEGL = 1215;
+        static final int INT_DEIC = 1216;
+        static final int INT_DEKC = 1217;
+        static final int INT_DELA = 1218;
+        static final int INT_DELH = 1219;
+        static final int INT_DELK = 1220;
+        static final int INT_DELL = 1221;
+        static final int INT_DELM = 1222;
+        static final int INT_DELN = 1223;
+        static final int INT_DELO = 1224;
+        static final int INT_DELP = 1225;
+        static final int INT_DELR = 1226;
+        static final int INT_DELS = 1227;
+        static final int INT_DELT = 1228;
+        static final int INT_DELU = 1229;
+        static final int INT_DELX = 1230;
+        static final int INT_DEMC = 1231;
+        static final int INT_DEMM = 1232;
+        static final int INT_DEMP = 1233;
+        static final int INT_DEMU = 1234;
+        static final int INT_DENC = 1235;
+        static final int INT_DENE = 1236;
+        static final int INT_DENN = 1237;
+        static final int INT_DENZ = 1238;
+        static final int INT_DERB = 1239;
+        static final int INT_DERE = 1240;
+        static final int INT_DERH = 1241;
+        static final int INT_DESA = 1242;
+        static final int INT_DESG = 1243;
+        static final int INT_DESI = 1244;
+        static final int INT_DESO = 1245;
+        static final int INT_DESP = 1246;
+        static final int INT_DEST = 1247;
+        static final int INT_DETE = 1248;
+        static final int INT_DETH = 1249;
+        static final int INT_DETI = 1250;
+        static final int INT_DETO = 1251;
+        static final int INT_DEUT = 1252;
+        static final int INT_DEVI = 1253;
+        static final int INT_DEVL = 1254;
+        static final int INT_DEVN = 1255;
+        static final int INT_DEWE = 1256;
+        static final int INT_DEWL = 1257;
+        static final int INT_DIAB = 1258;
+        static final int INT_DIAC = 1259;
+        static final int INT_DIAD = 1260;
+        static final int INT_DIAG = 1261;
+        static final int INT_DIAM = 1262;
+        static final int INT_DIAO = 1263;
+        static final int INT_DIAR = 1264;
+        static final int INT_DIAS = 1265;
+        static final int INT_DIAT = 1266;
+        static final int INT_DICH = 1267;
+        static final int INT_DICK = 1268;
+        static final int INT_DICO = 1269;
+        static final int INT_DIDI = 1270;
+        static final int INT_DIGM = 1271;
+        static final int INT_DILL = 1272;
+        static final int INT_DILM = 1273;
+        static final int INT_DILO = 1274;
+        static final int INT_DILY = 1275;
+        static final int INT_DINA = 1276;
+        static final int INT_DINL = 1277;
+        static final int INT_DIPL = 1278;
+        static final int INT_DISC = 1279;
+        static final int INT_DITC = 1280;
+        static final int INT_DITE = 1281;
+        static final int INT_DITR = 1282;
+        static final int INT_DIVA = 1283;
+        static final int INT_DIVC = 1284;
+        static final int INT_DIVE = 1285;
+        static final int INT_DIVO = 1286;
+        static final int INT_DIXE = 1287;
+        static final int INT_DIXI = 1288;
+        static final int INT_DIXO = 1289;
+        static final int INT_DKR = 1290;
+        static final int INT_DKW = 1291;
+        static final int INT_DLHY = 1292;
+        static final int INT_DLPE = 1293;
+        static final int INT_DLPH = 1294;
+        static final int INT_DM = 1295;
+        static final int INT_DMHC = 1296;
+        static final int INT_DMI = 1297;
+        static final int INT_DMP = 1298;
+        static final int INT_DMVE = 1299;
+        static final int INT_DODD = 1300;
+        static final int INT_DODE = 1301;
+        static final int INT_DODG = 1302;
+        static final int INT_DOEP = 1303;
+        static final int INT_DOLA = 1304;
+        static final int INT_DOLI = 1305;
+        static final int INT_DOMI = 1306;
+        static final int INT_DOMO = 1307;
+        static final int INT_DONA = 1308;
+        static final int INT_DONG = 1309;
+        static final int INT_DONH = 1310;
+        static final int INT_DONL = 1311;
+        static final int INT_DONM = 1312;
+        static final int INT_DONS = 1313;
+        static final int INT_DONU = 1314;
+        static final int INT_DOO = 1315;
+        static final int INT_DOOL = 1316;
+        static final int INT_DOON = 1317;
+        static final int INT_DORI = 1318;
+        static final int INT_DORS = 1319;
+        static final int INT_DORT = 1320;
+        static final int INT_DOT = 1321;
+        static final int INT_DOUB = 1322;
+        static final int INT_DOUD = 1323;
+        static final int INT_DOUE = 1324;
+        static final int INT_DOUG = 1325;
+        static final int INT_DOUJ = 1326;
+        static final int INT_DOWE = 1327;
+        static final int INT_DOWH = 1328;
+        static final int INT_DPWC = 1329;
+        static final int INT_DRAG = 1330;
+        static final int INT_DRAK = 1331;
+        static final int INT_DRDN = 1332;
+        static final int INT_DREA = 1333;
+        static final int INT_DRES = 1334;
+        static final int INT_DRGL = 1335;
+        static final int INT_DRIE = 1336;
+        static final int INT_DRIF = 1337;
+        static final int INT_DRIV = 1338;
+        static final int INT_DRML = 1339;
+        static final int INT_DROP = 1340;
+        static final int INT_DROT = 1341;
+        static final int INT_DRSN = 1342;
+        static final int INT_DRYD = 1343;
+        static final int INT_DSPD = 1344;
+        static final int INT_DSSC = 1345;
+        static final int INT_DSWS = 1346;
+        static final int INT_DTCH = 1347;
+        static final int INT_DTRL = 1348;
+        static final int INT_DTRV = 1349;
+        static final int INT_DUAE = 1350;
+        static final int INT_DUAL = 1351;
+        static final int INT_DUAM = 1352;
+        static final int INT_DUCA = 1353;
+        static final int INT_DUDE = 1354;
+        static final int INT_DUEL = 1355;
+        static final int INT_DUES = 1356;
+        static final int INT_DUGA = 1357;
+        static final int INT_DUGO = 1358;
+        static final int INT_DUKE = 1359;
+        static final int INT_DUNB = 1360;
+        static final int INT_DUNH = 1361;
+        static final int INT_DUNL = 1362;
+        static final int INT_DUNR = 1363;
+        static final int INT_DUPA = 1364;
+        static final int INT_DUPL = 1365;
+        static final int INT_DUPX = 1366;
+        static final int INT_DURA = 1367;
+        static final int INT_DURB = 1368;
+        static final int INT_DURC = 1369;
+        static final int INT_DURE = 1370;
+        static final int INT_DURI = 1371;
+        static final int INT_DURO = 1372;
+        static final int INT_DUTC = 1373;
+        static final int INT_DUTE = 1374;
+        static final int INT_DUTT = 1375;
+        static final int INT_DWNS = 1376;
+        static final int INT_DWTE = 1377;
+        static final int INT_DYCY = 1378;
+        static final int INT_DYMC = 1379;
+        static final int INT_DYNA = 1380;
+        static final int INT_DYNC = 1381;
+        static final int INT_DYNM = 1382;
+        static final int INT_DYNS = 1383;
+        static final int INT_DYNW = 1384;
+        static final int INT_DYTC = 1385;
+        static final int INT_EACR = 1386;
+        static final int INT_EADU = 1387;
+        static final int INT_EAGB = 1388;
+        static final int INT_EAGC = 1389;
+        static final int INT_EAGE = 1390;
+        static final int INT_EAGI = 1391;
+        static final int INT_EAGL = 1392;
+        static final int INT_EALO = 1393;
+        static final int INT_EARI = 1394;
+        static final int INT_EASE = 1395;
+        static final int INT_EASM = 1396;
+        static final int INT_EAST = 1397;
+        static final int INT_EASU = 1398;
+        static final int INT_EASW = 1399;
+        static final int INT_EASY = 1400;
+        static final int INT_EATN = 1401;
+        static final int INT_EATO = 1402;
+        static final int INT_EATR = 1403;
+        static final int INT_EBON = 1404;
+        static final int INT_ECMY = 1405;
+        static final int INT_ECNO = 1406;
+        static final int INT_ECOB = 1407;
+        static final int INT_ECOF = 1408;
+        static final int INT_ECON = 1409;
+        static final int INT_ECSA = 1410;
+        static final int INT_ECTA = 1411;
+        static final int INT_EDEY = 1412;
+        static final int INT_EDSE = 1413;
+        static final int INT_EDWA = 1414;
+        static final int INT_EDWN = 1415;
+        static final int INT_EEE = 1416;
+        static final int INT_EEZY = 1417;
+        static final int INT_EGIL = 1418;
+        static final int INT_EGLE = 1419;
+        static final int INT_EHMC = 1420;
+        static final int INT_EIDA = 1421;
+        static final int INT_EIDL = 1422;
+        static final int INT_EIGH = 1423;
+        static final int INT_EJAY = 1424;
+        static final int INT_EKCH = 1425;
+        static final int INT_ELCA = 1426;
+        static final int INT_ELCO = 1427;
+        static final int INT_ELCT = 1428;
+        static final int INT_ELCY = 1429;
+        static final int INT_ELDC = 1430;
+        static final int INT_ELDE = 1431;
+        static final int INT_ELDO = 1432;
+        static final int INT_ELEC = 1433;
+        static final int INT_ELET = 1434;
+        static final int INT_ELGI = 1435;
+        static final int INT_ELGN = 1436;
+        static final int INT_ELIT = 1437;
+        static final int INT_ELJA = 1438;
+        static final int INT_ELKA = 1439;
+        static final int INT_ELKH = 1440;
+        static final int INT_ELLE = 1441;
+        static final int INT_ELLI = 1442;
+        static final int INT_ELLS = 1443;
+        static final int INT_ELMA = 1444;
+        static final int INT_ELVA = 1445;
+        static final int INT_ELVC = 1446;
+        static final int INT_ELVT = 1447;
+        static final int INT_EMBA = 1448;
+        static final int INT_EMBB = 1449;
+        static final int INT_EMCO = 1450;
+        static final int INT_EMER = 1451;
+        static final int INT_EMME = 1452;
+        static final int INT_EMML = 1453;
+        static final int INT_EMON = 1454;
+        static final int INT_EMPC = 1455;
+        static final int INT_EMPG = 1456;
+        static final int INT_EMPI = 1457;
+        static final int INT_EMPL = 1458;
+        static final int INT_EMPR = 1459;
+        static final int INT_EMW = 1460;
+        static final int INT_ENCO = 1461;
+        static final int INT_ENCR = 1462;
+        static final int INT_ENER = 1463;
+        static final int INT_ENGF = 1464;
+        static final int INT_ENGI = 1465;
+        static final int INT_ENGL = 1466;
+        static final int INT_ENGN = 1467;
+        static final int INT_ENMC = 1468;
+        static final int INT_ENPR = 1469;
+        static final int INT_ENRT = 1470;
+        static final int INT_ENSE = 1471;
+        static final int INT_ENTR = 1472;
+        static final int INT_ENVA = 1473;
+        static final int INT_ENVI = 1474;
+        static final int INT_ENVY = 1475;
+        static final int INT_ENZM = 1476;
+        static final int INT_EQPR = 1477;
+        static final int INT_ERCE = 1478;
+        static final int INT_EREK = 1479;
+        static final int INT_ERIC = 1480;
+        static final int INT_ERIE = 1481;
+        static final int INT_ERIG = 1482;
+        static final int INT_ERIN = 1483;
+        static final int INT_ERIS = 1484;
+        static final int INT_ERMC = 1485;
+        static final int INT_ERSK = 1486;
+        static final int INT_ESCA = 1487;
+        static final int INT_ESCC = 1488;
+        static final int INT_ESCO = 1489;
+        static final int INT_ESCP = 1490;
+        static final int INT_ESCT = 1491;
+        static final int INT_ESHL = 1492;
+        static final int INT_ESIX = 1493;
+        static final int INT_ESQU = 1494;
+        static final int INT_ESSE = 1495;
+        static final int INT_ESSI = 1496;
+        static final int INT_ESSK = 1497;
+        static final int INT_ESTA = 1498;
+        static final int INT_ESTE = 1499;
+        static final int INT_ESTM = 1500;
+        static final int INT_ETNY = 1501;
+        static final int INT_ETON = 1502;
+        static final int INT_ETXL = 1503;
+        static final int INT_EUCL = 1504;
+        static final int INT_EVAN = 1505;
+        static final int INT_EVAP = 1506;
+        static final int INT_EVAS = 1507;
+        static final int INT_EVEN = 1508;
+        static final int INT_EVER = 1509;
+        static final int INT_EVES = 1510;
+        static final int INT_EVIN = 1511;
+        static final int INT_EVLT = 1512;
+        static final int INT_EVRY = 1513;
+        static final int INT_EWAL = 1514;
+        static final int INT_EXC = 1515;
+        static final int INT_EXCE = 1516;
+        static final int INT_EXCI = 1517;
+        static final int INT_EXCL = 1518;
+        static final int INT_EXCR = 1519;
+        static final int INT_EXCY = 1520;
+        static final int INT_EXEC = 1521;
+        static final int INT_EXEZ = 1522;
+        static final int INT_EXHE = 1523;
+        static final int INT_EXIS = 1524;
+        static final int INT_EXPD = 1525;
+        static final int INT_EXPL = 1526;
+        static final int INT_EXTL = 1527;
+        static final int INT_EXTO = 1528;
+        static final int INT_EZAC = 1529;
+        static final int INT_EZCK = 1530;
+        static final int INT_EZHA = 1531;
+        static final int INT_EZLD = 1532;
+        static final int INT_EZUT = 1533;
+        static final int INT_EZZY = 1534;
+        static final int INT_FAAL = 1535;
+        static final int INT_FABC = 1536;
+        static final int INT_FABO = 1537;
+        static final int INT_FACE = 1538;
+        static final int INT_FACL = 1539;
+        static final int INT_FACT = 1540;
+        static final int INT_FAIH = 1541;
+        static final int INT_FAIM = 1542;
+        static final int INT_FAIR = 1543;
+        static final int INT_FALC = 1544;
+        static final int INT_FALL = 1545;
+        static final int INT_FALM = 1546;
+        static final int INT_FALN = 1547;
+        static final int INT_FAN = 1548;
+        static final int INT_FARG = 1549;
+        static final int INT_FARH = 1550;
+        static final int INT_FARK = 1551;
+        static final int INT_FARM = 1552;
+        static final int INT_FARW = 1553;
+        static final int INT_FAST = 1554;
+        static final int INT_FATC = 1555;
+        static final int INT_FAWN = 1556;
+        static final int INT_FAYE = 1557;
+        static final int INT_FECH = 1558;
+        static final int INT_FEDE = 1559;
+        static final int INT_FEDL = 1560;
+        static final int INT_FELB = 1561;
+        static final int INT_FELD = 1562;
+        static final int INT_FELL = 1563;
+        static final int INT_FELP = 1564;
+        static final int INT_FEMC = 1565;
+        static final int INT_FERE = 1566;
+        static final int INT_FERG = 1567;
+        static final int INT_FERR = 1568;
+        static final int INT_FERT = 1569;
+        static final int INT_FEST = 1570;
+        static final int INT_FETE = 1571;
+        static final int INT_FEYF = 1572;
+        static final int INT_FHL = 1573;
+        static final int INT_FHMC = 1574;
+        static final int INT_FIAA = 1575;
+        static final int INT_FIAC = 1576;
+        static final int INT_FIAL = 1577;
+        static final int INT_FIAT = 1578;
+        static final int INT_FIBE = 1579;
+        static final int INT_FIBI = 1580;
+        static final int INT_FIEA = 1581;
+        static final int INT_FIED = 1582;
+        static final int INT_FIEL = 1583;
+        static final int INT_FIEM = 1584;
+        static final int INT_FIES = 1585;
+        static final int INT_FIFE = 1586;
+        static final int INT_FIGU = 1587;
+        static final int INT_FIKO = 1588;
+        static final int INT_FILK = 1589;
+        static final int INT_FINN = 1590;
+        static final int INT_FIRB = 1591;
+        static final int INT_FIRE = 1592;
+        static final int INT_FIRS = 1593;
+        static final int INT_FIRT = 1594;
+        static final int INT_FISC = 1595;
+        static final int INT_FIST = 1596;
+        static final int INT_FIVE = 1597;
+        static final int INT_FIVK = 1598;
+        static final int INT_FLAG = 1599;
+        static final int INT_FLAH = 1600;
+        static final int INT_FLAI = 1601;
+        static final int INT_FLAM = 1602;
+        static final int INT_FLAN = 1603;
+        static final int INT_FLAS = 1604;
+        static final int INT_FLBR = 1605;
+        static final int INT_FLE = 1606;
+        static final int INT_FLEA = 1607;
+        static final int INT_FLEE = 1608;
+        static final int INT_FLEI = 1609;
+        static final int INT_FLEM = 1610;
+        static final int INT_FLEN = 1611;
+        static final int INT_FLEO = 1612;
+        static final int INT_FLEX = 1613;
+        static final int INT_FLIN = 1614;
+        static final int INT_FLMG = 1615;
+        static final int INT_FLMR = 1616;
+        static final int INT_FLNG = 1617;
+        static final int INT_FLOA = 1618;
+        static final int INT_FLOD = 1619;
+        static final int INT_FLOE = 1620;
+        static final int INT_FLOI = 1621;
+        static final int INT_FLOR = 1622;
+        static final int INT_FLOT = 1623;
+        static final int INT_FLOW = 1624;
+        static final int INT_FLYI = 1625;
+        static final int INT_FLYL = 1626;
+        static final int INT_FMC = 1627;
+        static final int INT_FMSH = 1628;
+        static final int INT_FN = 1629;
+        static final int INT_FNM = 1630;
+        static final int INT_FNTM = 1631;
+        static final int INT_FOLA = 1632;
+        static final int INT_FOML = 1633;
+        static final int INT_FOMO = 1634;
+        static final int INT_FONA = 1635;
+        static final int INT_FONT = 1636;
+        static final int INT_FOOT = 1637;
+        static final int INT_FOR = 1638;
+        static final int INT_FORA = 1639;
+        static final int INT_FORC = 1640;
+        static final int INT_FORD = 1641;
+        static final int INT_FORE = 1642;
+        static final int INT_FORF = 1643;
+        static final int INT_FORG = 1644;
+        static final int INT_FORH = 1645;
+        static final int INT_FORI = 1646;
+        static final int INT_FORL = 1647;
+        static final int INT_FORN = 1648;
+        static final int INT_FORR = 1649;
+        static final int INT_FORS = 1650;
+        static final int INT_FORT = 1651;
+        static final int INT_FORU = 1652;
+        static final int INT_FOSJ = 1653;
+        static final int INT_FOST = 1654;
+        static final int INT_FOTX = 1655;
+        static final int INT_FOUN = 1656;
+        static final int INT_FOUR = 1657;
+        static final int INT_FOUS = 1658;
+        static final int INT_FOUT = 1659;
+        static final int INT_FOUW = 1660;
+        static final int INT_FOWN = 1661;
+        static final int INT_FOX = 1662;
+        static final int INT_FOXI = 1663;
+        static final int INT_FRAC = 1664;
+        static final int INT_FRAI = 1665;
+        static final int INT_FRAK = 1666;
+        static final int INT_FRAN = 1667;
+        static final int INT_FRAZ = 1668;
+        static final int INT_FRBA = 1669;
+        static final int INT_FRCS = 1670;
+        static final int INT_FREA = 1671;
+        static final int INT_FRED = 1672;
+        static final int INT_FREE = 1673;
+        static final int INT_FREF = 1674;
+        static final int INT_FREN = 1675;
+        static final int INT_FRES = 1676;
+        static final int INT_FRHH = 1677;
+        static final int INT_FRHT = 1678;
+        static final int INT_FRIE = 1679;
+        static final int INT_FRIG = 1680;
+        static final int INT_FRIS = 1681;
+        static final int INT_FRNA = 1682;
+        static final int INT_FRNK = 1683;
+        static final int INT_FROL = 1684;
+        static final int INT_FRON = 1685;
+        static final int INT_FROS = 1686;
+        static final int INT_FRRS = 1687;
+        static final int INT_FRRV = 1688;
+        static final int INT_FRTV = 1689;
+        static final int INT_FRUE = 1690;
+        static final int INT_FRUN = 1691;
+        static final int INT_FRYE = 1692;
+        static final int INT_FSLD = 1693;
+        static final int INT_FSTL = 1694;
+        static final int INT_FTRC = 1695;
+        static final int INT_FTWD = 1696;
+        static final int INT_FUER = 1697;
+        static final int INT_FUJI = 1698;
+        static final int INT_FULL = 1699;
+        static final int INT_FULT = 1700;
+        static final int INT_FUNL = 1701;
+        static final int INT_FUNT = 1702;
+        static final int INT_FUQU = 1703;
+        static final int INT_FURA = 1704;
+        static final int INT_FUTR = 1705;
+        static final int INT_FUTU = 1706;
+        static final int INT_FWD = 1707;
+        static final int INT_GAAC = 1708;
+        static final int INT_GABB = 1709;
+        static final int INT_GABR = 1710;
+        static final int INT_GADA = 1711;
+        static final int INT_GADB = 1712;
+        static final int INT_GAFN = 1713;
+        static final int INT_GALA = 1714;
+        static final int INT_GALB = 1715;
+        static final int INT_GALI = 1716;
+        static final int INT_GALT = 1717;
+        static final int INT_GANN = 1718;
+        static final int INT_GARB = 1719;
+        static final int INT_GARD = 1720;
+        static final int INT_GARE = 1721;
+        static final int INT_GARH = 1722;
+        static final int INT_GARL = 1723;
+        static final int INT_GARN = 1724;
+        static final int INT_GARO = 1725;
+        static final int INT_GARP = 1726;
+        static final int INT_GARR = 1727;
+        static final int INT_GARS = 1728;
+        static final int INT_GARY = 1729;
+        static final int INT_GASE = 1730;
+        static final int INT_GAST = 1731;
+        static final int INT_GATE = 1732;
+        static final int INT_GATO = 1733;
+        static final int INT_GATP = 1734;
+        static final int INT_GAZ = 1735;
+        static final int INT_GBCO = 1736;
+        static final int INT_GCMC = 1737;
+        static final int INT_GDAN = 1738;
+        static final int INT_GE = 1739;
+        static final int INT_GECI = 1740;
+        static final int INT_GEEB = 1741;
+        static final int INT_GEEC = 1742;
+        static final int INT_GEEL = 1743;
+        static final int INT_GEEN = 1744;
+        static final int INT_GEER = 1745;
+        static final int INT_GEHL = 1746;
+        static final int INT_GELT = 1747;
+        static final int INT_GEM = 1748;
+        static final int INT_GEMI = 1749;
+        static final int INT_GEMT = 1750;
+        static final int INT_GEN = 1751;
+        static final int INT_GENA = 1752;
+        static final int INT_GENC = 1753;
+        static final int INT_GENE = 1754;
+        static final int INT_GENF = 1755;
+        static final int INT_GENG = 1756;
+        static final int INT_GENH = 1757;
+        static final int INT_GENI = 1758;
+        static final int INT_GENM = 1759;
+        static final int INT_GENR = 1760;
+        static final int INT_GENT = 1761;
+        static final int INT_GEO = 1762;
+        static final int INT_GEOR = 1763;
+        static final int INT_GEOT = 1764;
+        static final int INT_GERA = 1765;
+        static final int INT_GERC = 1766;
+        static final int INT_GERL = 1767;
+        static final int INT_GERR = 1768;
+        static final int INT_GETM = 1769;
+        static final int INT_GFHT = 1770;
+        static final int INT_GFST = 1771;
+        static final int INT_GFTR = 1772;
+        static final int INT_GHIE = 1773;
+        static final int INT_GHMI = 1774;
+        static final int INT_GIAA = 1775;
+        static final int INT_GIAN = 1776;
+        static final int INT_GIAT = 1777;
+        static final int INT_GIBL = 1778;
+        static final int INT_GIBR = 1779;
+        static final int INT_GIDD = 1780;
+        static final int INT_GIGI = 1781;
+        static final int INT_GILB = 1782;
+        static final int INT_GILD = 1783;
+        static final int INT_GILE = 1784;
+        static final int INT_GILG = 1785;
+        static final int INT_GILL = 1786;
+        static final int INT_GILM = 1787;
+        static final int INT_GILS = 1788;
+        static final int INT_GILT = 1789;
+        static final int INT_GIND = 1790;
+        static final int INT_GINE = 1791;
+        static final int INT_GINR = 1792;
+        static final int INT_GIRA = 1793;
+        static final int INT_GISN = 1794;
+        static final int INT_GITA = 1795;
+        static final int INT_GIVE = 1796;
+        static final int INT_GLAD = 1797;
+        static final int INT_GLAS = 1798;
+        static final int INT_GLAT = 1799;
+        static final int INT_GLBE = 1800;
+        static final int INT_GLBL = 1801;
+        static final int INT_GLCG = 1802;
+        static final int INT_GLEA = 1803;
+        static final int INT_GLEB = 1804;
+        static final int INT_GLEC = 1805;
+        static final int INT_GLEH = 1806;
+        static final int INT_GLEL = 1807;
+        static final int INT_GLEN = 1808;
+        static final int INT_GLFI = 1809;
+        static final int INT_GLID = 1810;
+        static final int INT_GLIT = 1811;
+        static final int INT_GLMB = 1812;
+        static final int INT_GLND = 1813;
+        static final int INT_GLNL = 1814;
+        static final int INT_GLOB = 1815;
+        static final int INT_GLOM = 1816;
+        static final int INT_GLOS = 1817;
+        static final int INT_GLOV = 1818;
+        static final int INT_GLRV = 1819;
+        static final int INT_GLSC = 1820;
+        static final int INT_GLSS = 1821;
+        static final int INT_GLST = 1822;
+        static final int INT_GLWO = 1823;
+        static final int INT_GM = 1824;
+        static final int INT_GMC = 1825;
+        static final int INT_GMRE = 1826;
+        static final int INT_GNMI = 1827;
+        static final int INT_GNSH = 1828;
+        static final int INT_GNWF = 1829;
+        static final int INT_GOAT = 1830;
+        static final int INT_GOCO = 1831;
+        static final int INT_GOEB = 1832;
+        static final int INT_GOFF = 1833;
+        static final int INT_GOGA = 1834;
+        static final int INT_GOGE = 1835;
+        static final int INT_GOGO = 1836;
+        static final int INT_GOKT = 1837;
+        static final int INT_GOLA = 1838;
+        static final int INT_GOLD = 1839;
+        static final int INT_GOLE = 1840;
+        static final int INT_GOLI = 1841;
+        static final int INT_GOLK = 1842;
+        static final int INT_GOLL = 1843;
+        static final int INT_GOLM = 1844;
+        static final int INT_GOLN = 1845;
+        static final int INT_GONA = 1846;
+        static final int INT_GONU = 1847;
+        static final int INT_GOOD = 1848;
+        static final int INT_GOOS = 1849;
+        static final int INT_GOOY = 1850;
+        static final int INT_GORB = 1851;
+        static final int INT_GORD = 1852;
+        static final int INT_GORE = 1853;
+        static final int INT_GORM = 1854;
+        static final int INT_GORO = 1855;
+        static final int INT_GPRX = 1856;
+        static final int INT_GRAB = 1857;
+        static final int INT_GRAC = 1858;
+        static final int INT_GRAD = 1859;
+        static final int INT_GRAE = 1860;
+        static final int INT_GRAF = 1861;
+        static final int INT_GRAH = 1862;
+        static final int INT_GRAM = 1863;
+        static final int INT_GRAO = 1864;
+        static final int INT_GRAP = 1865;
+        static final int INT_GRAV = 1866;
+        static final int INT_GRDN = 1867;
+        static final int INT_GREA = 1868;
+        static final int INT_GREB = 1869;
+        static final int INT_GREE = 1870;
+        static final int INT_GREG = 1871;
+        static final int INT_GREI = 1872;
+        static final int INT_GREL = 1873;
+        static final int INT_GREM = 1874;
+        static final int INT_GREN = 1875;
+        static final int INT_GRER = 1876;
+        static final int INT_GRES = 1877;
+        static final int INT_GREV = 1878;
+        static final int INT_GRIF = 1879;
+        static final int INT_GRIM = 1880;
+        static final int INT_GRIZ = 1881;
+        static final int INT_GRLK = 1882;
+        static final int INT_GRNE = 1883;
+        static final int INT_GRNH = 1884;
+        static final int INT_GROE = 1885;
+        static final int INT_GROV = 1886;
+        static final int INT_GRRM = 1887;
+        static final int INT_GRSO = 1888;
+        static final int INT_GRSP = 1889;
+        static final int INT_GRUE = 1890;
+        static final int INT_GRUM = 1891;
+        static final int INT_GRVE = 1892;
+        static final int INT_GRVM = 1893;
+        static final int INT_GRYE = 1894;
+        static final int INT_GRZL = 1895;
+        static final int INT_GSCR = 1896;
+        static final int INT_GSEN = 1897;
+        static final int INT_GSIN = 1898;
+        static final int INT_GSM = 1899;
+        static final int INT_GUER = 1900;
+        static final int INT_GUES = 1901;
+        static final int INT_GUID = 1902;
+        static final int INT_GUIZ = 1903;
+        static final int INT_GULF = 1904;
+        static final int INT_GUST = 1905;
+        static final int INT_GUTH = 1906;
+        static final int INT_GUZO = 1907;
+        static final int INT_GWM = 1908;
+        static final int INT_GYEL = 1909;
+        static final int INT_GYPS = 1910;
+        static final int INT_GZL = 1911;
+        static final int INT_HACK = 1912;
+        static final int INT_HADL = 1913;
+        static final int INT_HADX = 1914;
+        static final int INT_HAFA = 1915;
+        static final int INT_HAFL = 1916;
+        static final int INT_HAHN = 1917;
+        static final int INT_HAIR = 1918;
+        static final int INT_HALC = 1919;
+        static final int INT_HALE = 1920;
+        static final int INT_HALL = 1921;
+        static final int INT_HALM = 1922;
+        static final int INT_HALN = 1923;
+        static final int INT_HALR = 1924;
+        static final int INT_HAMB = 1925;
+        static final int INT_HAMI = 1926;
+        static final int INT_HAML = 1927;
+        static final int INT_HAMP = 1928;
+        static final int INT_HAMR = 1929;
+        static final int INT_HANK = 1930;
+        static final int INT_HANN = 1931;
+        static final int INT_HANO = 1932;
+        static final int INT_HANS = 1933;
+        static final int INT_HAPP = 1934;
+        static final int INT_HAPY = 1935;
+        static final int INT_HARB = 1936;
+        static final int INT_HARC = 1937;
+        static final int INT_HARD = 1938;
+        static final int INT_HARF = 1939;
+        static final int INT_HARG = 1940;
+        static final int INT_HARH = 1941;
+        static final int INT_HARI = 1942;
+        static final int INT_HARK = 1943;
+        static final int INT_HARL = 1944;
+        static final int INT_HARM = 1945;
+        static final int INT_HARN = 1946;
+        static final int INT_HARR = 1947;
+        static final int INT_HART = 1948;
+        static final int INT_HARV = 1949;
+        static final int INT_HARW = 1950;
+        static final int INT_HAUA = 1951;
+        static final int INT_HAUI = 1952;
+        static final int INT_HAUL = 1953;
+        static final int INT_HAUR = 1954;
+        static final int INT_HAUT = 1955;
+        static final int INT_HAWK = 1956;
+        static final int INT_HAWN = 1957;
+        static final int INT_HAWT = 1958;
+        static final int INT_HAYE = 1959;
+        static final int INT_HAYN = 1960;
+        static final int INT_HAYS = 1961;
+        static final int INT_HBTC = 1962;
+        static final int INT_HD = 1963;
+        static final int INT_HDHM = 1964;
+        static final int INT_HDMC = 1965;
+        static final int INT_HDSN = 1966;
+        static final int INT_HEAL = 1967;
+        static final int INT_HEAR = 1968;
+        static final int INT_HEAT = 1969;
+        static final int INT_HECD = 1970;
+        static final int INT_HECK = 1971;
+        static final int INT_HECO = 1972;
+        static final int INT_HEDW = 1973;
+        static final int INT_HEIL = 1974;
+        static final int INT_HEIN = 1975;
+        static final int INT_HEIT = 1976;
+        static final int INT_HELM = 1977;
+        static final int INT_HELR = 1978;
+        static final int INT_HELT = 1979;
+        static final int INT_HEND = 1980;
+        static final int INT_HENE = 1981;
+        static final int INT_HENK = 1982;
+        static final int INT_HENM = 1983;
+        static final int INT_HENN = 1984;
+        static final int INT_HENR = 1985;
+        static final int INT_HENS = 1986;
+        static final int INT_HERB = 1987;
+        static final int INT_HERC = 1988;
+        static final int INT_HERD = 1989;
+        static final int INT_HERI = 1990;
+        static final int INT_HERO = 1991;
+        static final int INT_HERR = 1992;
+        static final int INT_HERT = 1993;
+        static final int INT_HERZ = 1994;
+        static final int INT_HESC = 1995;
+        static final int INT_HESS = 1996;
+        static final int INT_HEST = 1997;
+        static final int INT_HETG = 1998;
+        static final int INT_HEWE = 1999;
+        static final int INT_HEWI = 2000;
+        static final int INT_HFTD = 2001;
+        static final int INT_HGON = 2002;
+        static final int INT_HHTC = 2003;
+        static final int INT_HI = 2004;
+        static final int INT_HIAA = 2005;
+        static final int INT_HIAB = 2006;
+        static final int INT_HIAW = 2007;
+        static final int INT_HIBD = 2008;
+        static final int INT_HIBT = 2009;
+        static final int INT_HICH = 2010;
+        static final int INT_HICK = 2011;
+        static final int INT_HICO = 2012;
+        static final int INT_HICS = 2013;
+        static final int INT_HIDE = 2014;
+        static final int INT_HIGA = 2015;
+        static final int INT_HIGE = 2016;
+        static final int INT_HIGH = 2017;
+        static final int INT_HIGK = 2018;
+        static final int INT_HIGL = 2019;
+        static final int INT_HIGW = 2020;
+        static final int INT_HIGY = 2021;
+        static final int INT_HIHK = 2022;
+        static final int INT_HILB = 2023;
+        static final int INT_HILC = 2024;
+        static final int INT_HILD = 2025;
+        static final int INT_HILF = 2026;
+        static final int INT_HILI = 2027;
+        static final int INT_HILL = 2028;
+        static final int INT_HILM = 2029;
+        static final int INT_HILO = 2030;
+        static final int INT_HILP = 2031;
+        static final int INT_HILS = 2032;
+        static final int INT_HILT = 2033;
+        static final int INT_HIND = 2034;
+        static final int INT_HINE = 2035;
+        static final int INT_HINO = 2036;
+        static final int INT_HINS = 2037;
+        static final int INT_HINT = 2038;
+        static final int INT_HIRE = 2039;
+        static final int INT_HIST = 2040;
+        static final int INT_HITC = 2041;
+        static final int INT_HIUT = 2042;
+        static final int INT_HIWY = 2043;
+        static final int INT_HKEG = 2044;
+        static final int INT_HKRY = 2045;
+        static final int INT_HLDH = 2046;
+        static final int INT_HLFM = 2047;
+        static final int INT_HLPK = 2048;
+        static final int INT_HLRI = 2049;
+        static final int INT_HLWD = 2050;
+        static final int INT_HM = 2051;
+        static final int INT_HMDE = 2052;
+        static final int INT_HME = 2053;
+        static final int INT_HMST = 2054;
+        static final int INT_HMVE = 2055;
+        static final int INT_HNLC = 2056;
+        static final int INT_HNMR = 2057;
+        static final int INT_HNSO = 2058;
+        static final int INT_HOAN = 2059;
+        static final int INT_HOBA = 2060;
+        static final int INT_HOBB = 2061;
+        static final int INT_HOBO = 2062;
+        static final int INT_HODA = 2063;
+        static final int INT_HODG = 2064;
+        static final int INT_HOF = 2065;
+        static final int INT_HOIN = 2066;
+        static final int INT_HOL = 2067;
+        static final int INT_HOLA = 2068;
+        static final int INT_HOLD = 2069;
+        static final int INT_HOLE = 2070;
+        static final int INT_HOLH = 2071;
+        static final int INT_HOLI = 2072;
+        static final int INT_HOLK = 2073;
+        static final int INT_HOLL = 2074;
+        static final int INT_HOLM = 2075;
+        static final int INT_HOLN = 2076;
+        static final int INT_HOLO = 2077;
+        static final int INT_HOLP = 2078;
+        static final int INT_HOLR = 2079;
+        static final int INT_HOLS = 2080;
+        static final int INT_HOLT = 2081;
+        static final int INT_HOLU = 2082;
+        static final int INT_HOLV = 2083;
+        static final int INT_HOLW = 2084;
+        static final int INT_HOLY = 2085;
+        static final int INT_HOLZ = 2086;
+        static final int INT_HOMA = 2087;
+        static final int INT_HOMD = 2088;
+        static final int INT_HOME = 2089;
+        static final int INT_HOML = 2090;
+        static final int INT_HOMM = 2091;
+        static final int INT_HOMS = 2092;
+        static final int INT_HOND = 2093;
+        static final int INT_HONE = 2094;
+        static final int INT_HONG = 2095;
+        static final int INT_HONO = 2096;
+        static final int INT_HOOP = 2097;
+        static final int INT_HOOS = 2098;
+        static final int INT_HOP = 2099;
+        static final int INT_HOPK = 2100;
+        static final int INT_HORC = 2101;
+        static final int INT_HORI = 2102;
+        static final int INT_HORN = 2103;
+        static final int INT_HORS = 2104;
+        static final int INT_HORT = 2105;
+        static final int INT_HORX = 2106;
+        static final int INT_HORZ = 2107;
+        static final int INT_HOTC = 2108;
+        static final int INT_HOUE = 2109;
+        static final int INT_HOUF = 2110;
+        static final int INT_HOUG = 2111;
+        static final int INT_HOUH = 2112;
+        static final int INT_HOWA = 2113;
+        static final int INT_HOWC = 2114;
+        static final int INT_HOWD = 2115;
+        static final int INT_HOWE = 2116;
+        static final int INT_HOWL = 2117;
+        static final int INT_HOWR = 2118;
+        static final int INT_HOWS = 2119;
+        static final int INT_HRBN = 2120;
+        static final int INT_HRG = 2121;
+        static final int INT_HRLL = 2122;
+        static final int INT_HRRM = 2123;
+        static final int INT_HRSE = 2124;
+        static final int INT_HRTG = 2125;
+        static final int INT_HRTI = 2126;
+        static final int INT_HRTK = 2127;
+        static final int INT_HRTL = 2128;
+        static final int INT_HRTN = 2129;
+        static final int INT_HRTO = 2130;
+        static final int INT_HRTR = 2131;
+        static final int INT_HRVY = 2132;
+        static final int INT_HSKE = 2133;
+        static final int INT_HSKY = 2134;
+        static final int INT_HSMI = 2135;
+        static final int INT_HSQV = 2136;
+        static final int INT_HTCH = 2137;
+        static final int INT_HUBE = 2138;
+        static final int INT_HUDS = 2139;
+        static final int INT_HUFF = 2140;
+        static final int INT_HUFY = 2141;
+        static final int INT_HUGH = 2142;
+        static final int INT_HULL = 2143;
+        static final int INT_HUMB = 2144;
+        static final int INT_HUME = 2145;
+        static final int INT_HUML = 2146;
+        static final int INT_HUMM = 2147;
+        static final int INT_HUMS = 2148;
+        static final int INT_HUNE = 2149;
+        static final int INT_HUNG = 2150;
+        static final int INT_HUNM = 2151;
+        static final int INT_HUNT = 2152;
+        static final int INT_HUPM = 2153;
+        static final int INT_HURO = 2154;
+        static final int INT_HURS = 2155;
+        static final int INT_HURU = 2156;
+        static final int INT_HUSA = 2157;
+        static final int INT_HUSF = 2158;
+        static final int INT_HUSK = 2159;
+        static final int INT_HUSQ = 2160;
+        static final int INT_HUSS = 2161;
+        static final int INT_HUST = 2162;
+        static final int INT_HUTC = 2163;
+        static final int INT_HUTR = 2164;
+        static final int INT_HUWA = 2165;
+        static final int INT_HWKT = 2166;
+        static final int INT_HWMC = 2167;
+        static final int INT_HWRO = 2168;
+        static final int INT_HYCA = 2169;
+        static final int INT_HYDE = 2170;
+        static final int INT_HYDY = 2171;
+        static final int INT_HYLD = 2172;
+        static final int INT_HYLN = 2173;
+        static final int INT_HYLT = 2174;
+        static final int INT_HYOS = 2175;
+        static final int INT_HYSH = 2176;
+        static final int INT_HYST = 2177;
+        static final int INT_HYTK = 2178;
+        static final int INT_HYTR = 2179;
+        static final int INT_HYUN = 2180;
+        static final int INT_IAME = 2181;
+        static final int INT_IBEN = 2182;
+        static final int INT_ICL = 2183;
+        static final int INT_ICRP = 2184;
+        static final int INT_IDEC = 2185;
+        static final int INT_IDEL = 2186;
+        static final int INT_IDLE = 2187;
+        static final int INT_IHHI = 2188;
+        static final int INT_IHTM = 2189;
+        static final int INT_IJBD = 2190;
+        static final int INT_IKA = 2191;
+        static final int INT_IMCO = 2192;
+        static final int INT_IMPA = 2193;
+        static final int INT_IMPB = 2194;
+        static final int INT_IMPD = 2195;
+        static final int INT_IMPE = 2196;
+        static final int INT_IMPI = 2197;
+        static final int INT_IND = 2198;
+        static final int INT_INDA = 2199;
+        static final int INT_INDE = 2200;
+        static final int INT_INDI = 2201;
+        static final int INT_INDM = 2202;
+        static final int INT_INDN = 2203;
+        static final int INT_INDP = 2204;
+        static final int INT_INDU = 2205;
+        static final int INT_INFI = 2206;
+        static final int INT_INGE = 2207;
+        static final int INT_INGL = 2208;
+        static final int INT_INGR = 2209;
+        static final int INT_INGS = 2210;
+        static final int INT_INGT = 2211;
+        static final int INT_INLA = 2212;
+        static final int INT_INLI = 2213;
+        static final int INT_INMA = 2214;
+        static final int INT_INMC = 2215;
+        static final int INT_INME = 2216;
+        static final int INT_INMN = 2217;
+        static final int INT_INNO = 2218;
+        static final int INT_INOR = 2219;
+        static final int INT_INRP = 2220;
+        static final int INT_INSL = 2221;
+        static final int INT_INTC = 2222;
+        static final int INT_INTE = 2223;
+        static final int INT_INTG = 2224;
+        static final int INT_INTI = 2225;
+        static final int INT_INTL = 2226;
+        static final int INT_INTM = 2227;
+        static final int INT_INTP = 2228;
+        static final int INT_INTR = 2229;
+        static final int INT_INTS = 2230;
+        static final int INT_INTT = 2231;
+        static final int INT_INVA = 2232;
+        static final int INT_INVO = 2233;
+        static final int INT_IOMO = 2234;
+        static final int INT_IONI = 2235;
+        static final int INT_IOWA = 2236;
+        static final int INT_IPSC = 2237;
+        static final int INT_IRBK = 2238;
+        static final int INT_IRD = 2239;
+        static final int INT_IRDG = 2240;
+        static final int INT_ISEI = 2241;
+        static final int INT_ISET = 2242;
+        static final int INT_ISLA = 2243;
+        static final int INT_ISO = 2244;
+        static final int INT_ISU = 2245;
+        static final int INT_ITAF = 2246;
+        static final int INT_ITAI = 2247;
+        static final int INT_ITAL = 2248;
+        static final int INT_ITAS = 2249;
+        static final int INT_ITAT = 2250;
+        static final int INT_ITAV = 2251;
+        static final int INT_ITLR = 2252;
+        static final int INT_ITOM = 2253;
+        static final int INT_IVEC = 2254;
+        static final int INT_JAC = 2255;
+        static final int INT_JACC = 2256;
+        static final int INT_JACK = 2257;
+        static final int INT_JACL = 2258;
+        static final int INT_JACO = 2259;
+        static final int INT_JACS = 2260;
+        static final int INT_JACT = 2261;
+        static final int INT_JAEG = 2262;
+        static final int INT_JAGU = 2263;
+        static final int INT_JAHN = 2264;
+        static final int INT_JALL = 2265;
+        static final int INT_JAMA = 2266;
+        static final int INT_JAMB = 2267;
+        static final int INT_JAMC = 2268;
+        static final int INT_JAMI = 2269;
+        static final int INT_JAMM = 2270;
+        static final int INT_JANT = 2271;
+        static final int INT_JARC = 2272;
+        static final int INT_JASO = 2273;
+        static final int INT_JAWA = 2274;
+        static final int INT_JAY = 2275;
+        static final int INT_JAYD = 2276;
+        static final int INT_JAYK = 2277;
+        static final int INT_JAYS = 2278;
+        static final int INT_JAYW = 2279;
+        static final int INT_JB = 2280;
+        static final int INT_JBEN = 2281;
+        static final int INT_JCBE = 2282;
+        static final int INT_JDER = 2283;
+        static final int INT_JDHS = 2284;
+        static final int INT_JECR = 2285;
+        static final int INT_JEEP = 2286;
+        static final int INT_JEHM = 2287;
+        static final int INT_JENE = 2288;
+        static final int INT_JENN = 2289;
+        static final int INT_JENS = 2290;
+        static final int INT_JEP = 2291;
+        static final int INT_JERA = 2292;
+        static final int INT_JERR = 2293;
+        static final int INT_JERS = 2294;
+        static final int INT_JERW = 2295;
+        static final int INT_JETM = 2296;
+        static final int INT_JETS = 2297;
+        static final int INT_JEWE = 2298;
+        static final int INT_JFW = 2299;
+        static final int INT_JHNS = 2300;
+        static final int INT_JIAN = 2301;
+        static final int INT_JIMA = 2302;
+        static final int INT_JIMD = 2303;
+        static final int INT_JIMG = 2304;
+        static final int INT_JIMS = 2305;
+        static final int INT_JIND = 2306;
+        static final int INT_JINS = 2307;
+        static final int INT_JJ = 2308;
+        static final int INT_JJJ = 2309;
+        static final int INT_JJNE = 2310;
+        static final int INT_JJT = 2311;
+        static final int INT_JJTM = 2312;
+        static final int INT_JLGI = 2313;
+        static final int INT_JLM = 2314;
+        static final int INT_JLTL = 2315;
+        static final int INT_JMCY = 2316;
+        static final int INT_JMGL = 2317;
+        static final int INT_JMS = 2318;
+        static final int INT_JOBS = 2319;
+        static final int INT_JOES = 2320;
+        static final int INT_JOEW = 2321;
+        static final int INT_JOHN = 2322;
+        static final int INT_JOHO = 2323;
+        static final int INT_JOHS = 2324;
+        static final int INT_JOLI = 2325;
+        static final int INT_JOMA = 2326;
+        static final int INT_JONS = 2327;
+        static final int INT_JOPL = 2328;
+        static final int INT_JORG = 2329;
+        static final int INT_JOSH = 2330;
+        static final int INT_JOSO = 2331;
+        static final int INT_JOUR = 2332;
+        static final int INT_JOWE = 2333;
+        static final int INT_JOYC = 2334;
+        static final int INT_JPTR = 2335;
+        static final int INT_JRDN = 2336;
+        static final int INT_JRMC = 2337;
+        static final int INT_JROD = 2338;
+        static final int INT_JSMH = 2339;
+        static final int INT_JSWP = 2340;
+        static final int INT_JTIL = 2341;
+        static final int INT_JUDE = 2342;
+        static final int INT_JUIL = 2343;
+        static final int INT_JUNR = 2344;
+        static final int INT_JW = 2345;
+        static final int INT_JWBC = 2346;
+        static final int INT_JWSS = 2347;
+        static final int INT_KAES = 2348;
+        static final int INT_KAIS = 2349;
+        static final int INT_KAJU = 2350;
+        static final int INT_KAKI = 2351;
+        static final int INT_KAL = 2352;
+        static final int INT_KALL = 2353;
+        static final int INT_KALY = 2354;
+        static final int INT_KAM = 2355;
+        static final int INT_KAMA = 2356;
+        static final int INT_KAMI = 2357;
+        static final int INT_KAMP = 2358;
+        static final int INT_KANE = 2359;
+        static final int INT_KANH = 2360;
+        static final int INT_KANN = 2361;
+        static final int INT_KANZ = 2362;
+        static final int INT_KARA = 2363;
+        static final int INT_KARD = 2364;
+        static final int INT_KARI = 2365;
+        static final int INT_KARO = 2366;
+        static final int INT_KARR = 2367;
+        static final int INT_KARS = 2368;
+        static final int INT_KART = 2369;
+        static final int INT_KASE = 2370;
+        static final int INT_KASS = 2371;
+        static final int INT_KAST = 2372;
+        static final int INT_KATL = 2373;
+        static final int INT_KATO = 2374;
+        static final int INT_KAUF = 2375;
+        static final int INT_KAWK = 2376;
+        static final int INT_KAYD = 2377;
+        static final int INT_KAYF = 2378;
+        static final int INT_KAYO = 2379;
+        static final int INT_KAYW = 2380;
+        static final int INT_KAZU = 2381;
+        static final int INT_KBAR = 2382;
+        static final int INT_KBHC = 2383;
+        static final int INT_KCCF = 2384;
+        static final int INT_KDMA = 2385;
+        static final int INT_KEAR = 2386;
+        static final int INT_KELE = 2387;
+        static final int INT_KELL = 2388;
+        static final int INT_KELO = 2389;
+        static final int INT_KELS = 2390;
+        static final int INT_KEMP = 2391;
+        static final int INT_KEN = 2392;
+        static final int INT_KENA = 2393;
+        static final int INT_KENC = 2394;
+        static final int INT_KENM = 2395;
+        static final int INT_KENN = 2396;
+        static final int INT_KENO = 2397;
+        static final int INT_KENS = 2398;
+        static final int INT_KENT = 2399;
+        static final int INT_KENW = 2400;
+        static final int INT_KENY = 2401;
+        static final int INT_KEPT = 2402;
+        static final int INT_KERR = 2403;
+        static final int INT_KESL = 2404;
+        static final int INT_KEYI = 2405;
+        static final int INT_KEYO = 2406;
+        static final int INT_KEYS = 2407;
+        static final int INT_KGHY = 2408;
+        static final int INT_KGMF = 2409;
+        static final int INT_KIA = 2410;
+        static final int INT_KIBB = 2411;
+        static final int INT_KIDR = 2412;
+        static final int INT_KIEF = 2413;
+        static final int INT_KILG = 2414;
+        static final int INT_KILL = 2415;
+        static final int INT_KIMI = 2416;
+        static final int INT_KINA = 2417;
+        static final int INT_KINC = 2418;
+        static final int INT_KIND = 2419;
+        static final int INT_KINE = 2420;
+        static final int INT_KINF = 2421;
+        static final int INT_KINS = 2422;
+        static final int INT_KINZ = 2423;
+        static final int INT_KIPC = 2424;
+        static final int INT_KISM = 2425;
+        static final int INT_KISS = 2426;
+        static final int INT_KIT = 2427;
+        static final int INT_KITK = 2428;
+        static final int INT_KITM = 2429;
+        static final int INT_KLAE = 2430;
+        static final int INT_KLAS = 2431;
+        static final int INT_KLCL = 2432;
+        static final int INT_KLEI = 2433;
+        static final int INT_KLI = 2434;
+        static final int INT_KLIN = 2435;
+        static final int INT_KLMK = 2436;
+        static final int INT_KMAR = 2437;
+        static final int INT_KMCU = 2438;
+        static final int INT_KMGI = 2439;
+        static final int INT_KMMC = 2440;
+        static final int INT_KMNM = 2441;
+        static final int INT_KMSR = 2442;
+        static final int INT_KNBR = 2443;
+        static final int INT_KNC = 2444;
+        static final int INT_KNG = 2445;
+        static final int INT_KNGH = 2446;
+        static final int INT_KNGS = 2447;
+        static final int INT_KNIG = 2448;
+        static final int INT_KNLH = 2449;
+        static final int INT_KNNW = 2450;
+        static final int INT_KNOW = 2451;
+        static final int INT_KNOX = 2452;
+        static final int INT_KNTC = 2453;
+        static final int INT_KNTI = 2454;
+        static final int INT_KODI = 2455;
+        static final int INT_KOEH = 2456;
+        static final int INT_KOEN = 2457;
+        static final int INT_KOFF = 2458;
+        static final int INT_KOHL = 2459;
+        static final int INT_KOLB = 2460;
+        static final int INT_KOMA = 2461;
+        static final int INT_KOMC = 2462;
+        static final int INT_KOME = 2463;
+        static final int INT_KOMF = 2464;
+        static final int INT_KOMP = 2465;
+        static final int INT_KOMR = 2466;
+        static final int INT_KONK = 2467;
+        static final int INT_KONT = 2468;
+        static final int INT_KOOL = 2469;
+        static final int INT_KORY = 2470;
+        static final int INT_KOSC = 2471;
+        static final int INT_KOST = 2472;
+        static final int INT_KOTR = 2473;
+        static final int INT_KOUN = 2474;
+        static final int INT_KOVA = 2475;
+        static final int INT_KOZY = 2476;
+        static final int INT_KPRC = 2477;
+        static final int INT_KRAE = 2478;
+        static final int INT_KRAU = 2479;
+        static final int INT_KRDL = 2480;
+        static final int INT_KRGO = 2481;
+        static final int INT_KRIS = 2482;
+        static final int INT_KROM = 2483;
+        static final int INT_KROP = 2484;
+        static final int INT_KROS = 2485;
+        static final int INT_KROW = 2486;
+        static final int INT_KRST = 2487;
+        static final int INT_KSEA = 2488;
+        static final int INT_KTM = 2489;
+        static final int INT_KUBO = 2490;
+        static final int INT_KUHN = 2491;
+        static final int INT_KURM = 2492;
+        static final int INT_KURT = 2493;
+        static final int INT_KUST = 2494;
+        static final int INT_KUTK = 2495;
+        static final int INT_KUTZ = 2496;
+        static final int INT_KW = 2497;
+        static final int INT_KWDT = 2498;
+        static final int INT_KWKT = 2499;
+        static final int INT_KWMH = 2500;
+        static final int INT_KWNS = 2501;
+        static final int INT_KYMC = 2502;
+        static final int INT_KYRV = 2503;
+        static final int INT_LABE = 2504;
+        static final int INT_LACH = 2505;
+        static final int INT_LACR = 2506;
+        static final int INT_LACY = 2507;
+        static final int INT_LADA = 2508;
+        static final int INT_LAFR = 2509;
+        static final int INT_LAFY = 2510;
+        static final int INT_LAGO = 2511;
+        static final int INT_LAGU = 2512;
+        static final int INT_LAKE = 2513;
+        static final int INT_LAKL = 2514;
+        static final int INT_LALL = 2515;
+        static final int INT_LAMB = 2516;
+        static final int INT_LAMO = 2517;
+        static final int INT_LAN = 2518;
+        static final int INT_LANA = 2519;
+        static final int INT_LANC = 2520;
+        static final int INT_LAND = 2521;
+        static final int INT_LANE = 2522;
+        static final int INT_LANG = 2523;
+        static final int INT_LANH = 2524;
+        static final int INT_LANL = 2525;
+        static final int INT_LANM = 2526;
+        static final int INT_LANP = 2527;
+        static final int INT_LANR = 2528;
+        static final int INT_LANS = 2529;
+        static final int INT_LANT = 2530;
+        static final int INT_LANU = 2531;
+        static final int INT_LAOT = 2532;
+        static final int INT_LARA = 2533;
+        static final int INT_LARK = 2534;
+        static final int INT_LARN = 2535;
+        static final int INT_LARO = 2536;
+        static final int INT_LARS = 2537;
+        static final int INT_LARV = 2538;
+        static final int INT_LASA = 2539;
+        static final int INT_LASE = 2540;
+        static final int INT_LASH = 2541;
+        static final int INT_LASL = 2542;
+        static final int INT_LAVE = 2543;
+        static final int INT_LAWC = 2544;
+        static final int INT_LAWN = 2545;
+        static final int INT_LAWR = 2546;
+        static final int INT_LAYO = 2547;
+        static final int INT_LAYT = 2548;
+        static final int INT_LAZE = 2549;
+        static final int INT_LAZJ = 2550;
+        static final int INT_LBAU = 2551;
+        static final int INT_LBHR = 2552;
+        static final int INT_LBOS = 2553;
+        static final int INT_LBOY = 2554;
+        static final int INT_LBT = 2555;
+        static final int INT_LBTY = 2556;
+        static final int INT_LCHG = 2557;
+        static final int INT_LCRT = 2558;
+        static final int INT_LD = 2559;
+        static final int INT_LDAZ = 2560;
+        static final int INT_LDMS = 2561;
+        static final int INT_LDMX = 2562;
+        static final int INT_LDTC = 2563;
+        static final int INT_LDTL = 2564;
+        static final int INT_LEAD = 2565;
+        static final int INT_LEAF = 2566;
+        static final int INT_LEAR = 2567;
+        static final int INT_LECH = 2568;
+        static final int INT_LECT = 2569;
+        static final int INT_LEDW = 2570;
+        static final int INT_LEE = 2571;
+        static final int INT_LEEC = 2572;
+        static final int INT_LEEN = 2573;
+        static final int INT_LEER = 2574;
+        static final int INT_LEES = 2575;
+        static final int INT_LEIR = 2576;
+        static final int INT_LEIS = 2577;
+        static final int INT_LEIT = 2578;
+        static final int INT_LEIU = 2579;
+        static final int INT_LEKT = 2580;
+        static final int INT_LELA = 2581;
+        static final int INT_LELY = 2582;
+        static final int INT_LEM = 2583;
+        static final int INT_LEMC = 2584;
+        static final int INT_LENT = 2585;
+        static final int INT_LEON = 2586;
+        static final int INT_LERY = 2587;
+        static final int INT_LESC = 2588;
+        static final int INT_LESR = 2589;
+        static final int INT_LETO = 2590;
+        static final int INT_LEVC = 2591;
+        static final int INT_LEVI = 2592;
+        static final int INT_LEWA = 2593;
+        static final int INT_LEWI = 2594;
+        static final int INT_LEXS = 2595;
+        static final int INT_LEYL = 2596;
+        static final int INT_LFET = 2597;
+        static final int INT_LFTL = 2598;
+        static final int INT_LFZA = 2599;
+        static final int INT_LG = 2600;
+        static final int INT_LGCH = 2601;
+        static final int INT_LGND = 2602;
+        static final int INT_LHRN = 2603;
+        static final int INT_LIBA = 2604;
+        static final int INT_LIBE = 2605;
+        static final int INT_LIBH = 2606;
+        static final int INT_LIBY = 2607;
+        static final int INT_LICH = 2608;
+        static final int INT_LICO = 2609;
+        static final int INT_LIEB = 2610;
+        static final int INT_LIFM = 2611;
+        static final int INT_LIGC = 2612;
+        static final int INT_LIGH = 2613;
+        static final int INT_LIGP = 2614;
+        static final int INT_LIGT = 2615;
+        static final int INT_LILA = 2616;
+        static final int INT_LILC = 2617;
+        static final int INT_LILL = 2618;
+        static final int INT_LILN = 2619;
+        static final int INT_LILZ = 2620;
+        static final int INT_LINC = 2621;
+        static final int INT_LIND = 2622;
+        static final int INT_LINF = 2623;
+        static final int INT_LINH = 2624;
+        static final int INT_LINM = 2625;
+        static final int INT_LINP = 2626;
+        static final int INT_LINT = 2627;
+        static final int INT_LINV = 2628;
+        static final int INT_LINW = 2629;
+        static final int INT_LIOL = 2630;
+        static final int INT_LION = 2631;
+        static final int INT_LIPR = 2632;
+        static final int INT_LIQU = 2633;
+        static final int INT_LISL = 2634;
+        static final int INT_LITC = 2635;
+        static final int INT_LITD = 2636;
+        static final int INT_LITK = 2637;
+        static final int INT_LITP = 2638;
+        static final int INT_LITS = 2639;
+        static final int INT_LITT = 2640;
+        static final int INT_LKWD = 2641;
+        static final int INT_LLOD = 2642;
+        static final int INT_LLOY = 2643;
+        static final int INT_LLTR = 2644;
+        static final int INT_LMC = 2645;
+        static final int INT_LMLC = 2646;
+        static final int INT_LMMC = 2647;
+        static final int INT_LNCE = 2648;
+        static final int INT_LNCI = 2649;
+        static final int INT_LNCO = 2650;
+        static final int INT_LNDN = 2651;
+        static final int INT_LNDR = 2652;
+        static final int INT_LNEW = 2653;
+        static final int INT_LNGH = 2654;
+        static final int INT_LNPD = 2655;
+        static final int INT_LNRD = 2656;
+        static final int INT_LNST = 2657;
+        static final int INT_LNWF = 2658;
+        static final int INT_LOAD = 2659;
+        static final int INT_LOAK = 2660;
+        static final int INT_LOCK = 2661;
+        static final int INT_LOCO = 2662;
+        static final int INT_LODA = 2663;
+        static final int INT_LODC = 2664;
+        static final int INT_LODE = 2665;
+        static final int INT_LODZ = 2666;
+        static final int INT_LOFT = 2667;
+        static final int INT_LOGN = 2668;
+        static final int INT_LOLA = 2669;
+        static final int INT_LOM = 2670;
+        static final int INT_LONA = 2671;
+        static final int INT_LONB = 2672;
+        static final int INT_LOND = 2673;
+        static final int INT_LONE = 2674;
+        static final int INT_LONF = 2675;
+        static final int INT_LONG = 2676;
+        static final int INT_LONH = 2677;
+        static final int INT_LONL = 2678;
+        static final int INT_LONN = 2679;
+        static final int INT_LONR = 2680;
+        static final int INT_LONT = 2681;
+        static final int INT_LOOD = 2682;
+        static final int INT_LOPR = 2683;
+        static final int INT_LORA = 2684;
+        static final int INT_LORK = 2685;
+        static final int INT_LOTU = 2686;
+        static final int INT_LOVB = 2687;
+        static final int INT_LOVE = 2688;
+        static final int INT_LOWB = 2689;
+        static final int INT_LOWE = 2690;
+        static final int INT_LOWP = 2691;
+        static final int INT_LRNG = 2692;
+        static final int INT_LSKP = 2693;
+        static final int INT_LSLN = 2694;
+        static final int INT_LSUR = 2695;
+        static final int INT_LTCH = 2696;
+        static final int INT_LUBB = 2697;
+        static final int INT_LUED = 2698;
+        static final int INT_LUFK = 2699;
+        static final int INT_LUGR = 2700;
+        static final int INT_LUKY = 2701;
+        static final int INT_LULL = 2702;
+        static final int INT_LUND = 2703;
+        static final int INT_LUNG = 2704;
+        static final int INT_LUVI = 2705;
+        static final int INT_LUXO = 2706;
+        static final int INT_LUXU = 2707;
+        static final int INT_LWLF = 2708;
+        static final int INT_LYMA = 2709;
+        static final int INT_LYNC = 2710;
+        static final int INT_LYNH = 2711;
+        static final int INT_LYNN = 2712;
+        static final int INT_LYNR = 2713;
+        static final int INT_MACA = 2714;
+        static final int INT_MACC = 2715;
+        static final int INT_MACD = 2716;
+        static final int INT_MACG = 2717;
+        static final int INT_MACK = 2718;
+        static final int INT_MACL = 2719;
+        static final int INT_MACO = 2720;
+        static final int INT_MACR = 2721;
+        static final int INT_MADD = 2722;
+        static final int INT_MADM = 2723;
+        static final int INT_MADR = 2724;
+        static final int INT_MAEN = 2725;
+        static final int INT_MAGA = 2726;
+        static final int INT_MAGC = 2727;
+        static final int INT_MAGI = 2728;
+        static final int INT_MAGL = 2729;
+        static final int INT_MAGN = 2730;
+        static final int INT_MAGO = 2731;
+        static final int INT_MAGT = 2732;
+        static final int INT_MAHA = 2733;
+        static final int INT_MAHI = 2734;
+        static final int INT_MAHO = 2735;
+        static final int INT_MAI = 2736;
+        static final int INT_MAIC = 2737;
+        static final int INT_MAIN = 2738;
+        static final int INT_MAIR = 2739;
+        static final int INT_MAJE = 2740;
+        static final int INT_MAJO = 2741;
+        static final int INT_MAJR = 2742;
+        static final int INT_MAKV = 2743;
+        static final int INT_MAL = 2744;
+        static final int INT_MALA = 2745;
+        static final int INT_MALE = 2746;
+        static final int INT_MALH = 2747;
+        static final int INT_MALI = 2748;
+        static final int INT_MALL = 2749;
+        static final int INT_MALN = 2750;
+        static final int INT_MALO = 2751;
+        static final int INT_MALR = 2752;
+        static final int INT_MALS = 2753;
+        static final int INT_MALY = 2754;
+        static final int INT_MANA = 2755;
+        static final int INT_MANC = 2756;
+        static final int INT_MANE = 2757;
+        static final int INT_MANG = 2758;
+        static final int INT_MANI = 2759;
+        static final int INT_MANK = 2760;
+        static final int INT_MANM = 2761;
+        static final int INT_MANN = 2762;
+        static final int INT_MANO = 2763;
+        static final int INT_MANT = 2764;
+        static final int INT_MAPL = 2765;
+        static final int INT_MAPO = 2766;
+        static final int INT_MAQI = 2767;
+        static final int INT_MARA = 2768;
+        static final int INT_MARB = 2769;
+        static final int INT_MARC = 2770;
+        static final int INT_MARF = 2771;
+        static final int INT_MARG = 2772;
+        static final int INT_MARH = 2773;
+        static final int INT_MARI = 2774;
+        static final int INT_MARK = 2775;
+        static final int INT_MARL = 2776;
+        static final int INT_MARM = 2777;
+        static final int INT_MARN = 2778;
+        static final int INT_MARO = 2779;
+        static final int INT_MARP = 2780;
+        static final int INT_MARQ = 2781;
+        static final int INT_MARR = 2782;
+        static final int INT_MARS = 2783;
+        static final int INT_MART = 2784;
+        static final int INT_MARU = 2785;
+        static final int INT_MARV = 2786;
+        static final int INT_MARW = 2787;
+        static final int INT_MASC = 2788;
+        static final int INT_MASE = 2789;
+        static final int INT_MASG = 2790;
+        static final int INT_MASL = 2791;
+        static final int INT_MASN = 2792;
+        static final int INT_MASR = 2793;
+        static final int INT_MASS = 2794;
+        static final int INT_MAST = 2795;
+        static final int INT_MASV = 2796;
+        static final int INT_MASY = 2797;
+        static final int INT_MATA = 2798;
+        static final int INT_MATE = 2799;
+        static final int INT_MATL = 2800;
+        static final int INT_MATR = 2801;
+        static final int INT_MAUL = 2802;
+        static final int INT_MAUM = 2803;
+        static final int INT_MAUR = 2804;
+        static final int INT_MAV = 2805;
+        static final int INT_MAVE = 2806;
+        static final int INT_MAVI = 2807;
+        static final int INT_MAVL = 2808;
+        static final int INT_MAVN = 2809;
+        static final int INT_MAXC = 2810;
+        static final int INT_MAXE = 2811;
+        static final int INT_MAXI = 2812;
+        static final int INT_MAXL = 2813;
+        static final int INT_MAXO = 2814;
+        static final int INT_MAYA = 2815;
+        static final int INT_MAYB = 2816;
+        static final int INT_MAYC = 2817;
+        static final int INT_MAYF = 2818;
+        static final int INT_MAYR = 2819;
+        static final int INT_MAYS = 2820;
+        static final int INT_MAZD = 2821;
+        static final int INT_MBCC = 2822;
+        static final int INT_MBCO = 2823;
+        static final int INT_MBCP = 2824;
+        static final int INT_MBEE = 2825;
+        static final int INT_MBIE = 2826;
+        static final int INT_MBIL = 2827;
+        static final int INT_MBM = 2828;
+        static final int INT_MBTR = 2829;
+        static final int INT_MBWI = 2830;
+        static final int INT_MCAF = 2831;
+        static final int INT_MCBM = 2832;
+        static final int INT_MCCA = 2833;
+        static final int INT_MCCB = 2834;
+        static final int INT_MCCK = 2835;
+        static final int INT_MCCL = 2836;
+        static final int INT_MCCM = 2837;
+        static final int INT_MCCO = 2838;
+        static final int INT_MCCR = 2839;
+        static final int INT_MCCU = 2840;
+        static final int INT_MCCY = 2841;
+        static final int INT_MCFA = 2842;
+        static final int INT_MCIN = 2843;
+        static final int INT_MCKA = 2844;
+        static final int INT_MCKT = 2845;
+        static final int INT_MCKY = 2846;
+        static final int INT_MCNA = 2847;
+        static final int INT_MCNM = 2848;
+        static final int INT_MCOL = 2849;
+        static final int INT_MCOX = 2850;
+        static final int INT_MCOY = 2851;
+        static final int INT_MCQU = 2852;
+        static final int INT_MCQV = 2853;
+        static final int INT_MCRD = 2854;
+        static final int INT_MCRR = 2855;
+        static final int INT_MDAM = 2856;
+        static final int INT_MDLR = 2857;
+        static final int INT_MDNA = 2858;
+        static final int INT_MDS = 2859;
+        static final int INT_MDST = 2860;
+        static final int INT_MDTR = 2861;
+        static final int INT_MEAD = 2862;
+        static final int INT_MEAN = 2863;
+        static final int INT_MEBT = 2864;
+        static final int INT_MECH = 2865;
+        static final int INT_MEDA = 2866;
+        static final int INT_MEDF = 2867;
+        static final int INT_MEDI = 2868;
+        static final int INT_MEIT = 2869;
+        static final int INT_MELA = 2870;
+        static final int INT_MELG = 2871;
+        static final int INT_MELM = 2872;
+        static final int INT_MELO = 2873;
+        static final int INT_MELR = 2874;
+        static final int INT_MENS = 2875;
+        static final int INT_MERB = 2876;
+        static final int INT_MERC = 2877;
+        static final int INT_MERH = 2878;
+        static final int INT_MERI = 2879;
+        static final int INT_MERK = 2880;
+        static final int INT_MERM = 2881;
+        static final int INT_MERR = 2882;
+        static final int INT_MERT = 2883;
+        static final int INT_MERW = 2884;
+        static final int INT_MERY = 2885;
+        static final int INT_MERZ = 2886;
+        static final int INT_MESA = 2887;
+        static final int INT_MESS = 2888;
+        static final int INT_META = 2889;
+        static final int INT_METE = 2890;
+        static final int INT_METL = 2891;
+        static final int INT_METO = 2892;
+        static final int INT_METR = 2893;
+        static final int INT_METV = 2894;
+        static final int INT_METZ = 2895;
+        static final int INT_MEYE = 2896;
+        static final int INT_MFAB = 2897;
+        static final int INT_MG = 2898;
+        static final int INT_MGM = 2899;
+        static final int INT_MGNM = 2900;
+        static final int INT_MGNO = 2901;
+        static final int INT_MGOS = 2902;
+        static final int INT_MGS = 2903;
+        static final int INT_MHEB = 2904;
+        static final int INT_MHMC = 2905;
+        static final int INT_MICA = 2906;
+        static final int INT_MICC = 2907;
+        static final int INT_MICG = 2908;
+        static final int INT_MIDA = 2909;
+        static final int INT_MIDC = 2910;
+        static final int INT_MIDD = 2911;
+        static final int INT_MIDE = 2912;
+        static final int INT_MIDI = 2913;
+        static final int INT_MIDL = 2914;
+        static final int INT_MIDM = 2915;
+        static final int INT_MIDQ = 2916;
+        static final int INT_MIDS = 2917;
+        static final int INT_MIDT = 2918;
+        static final int INT_MIDW = 2919;
+        static final int INT_MIFU = 2920;
+        static final int INT_MIKA = 2921;
+        static final int INT_MIKR = 2922;
+        static final int INT_MIL = 2923;
+        static final int INT_MILA = 2924;
+        static final int INT_MILC = 2925;
+        static final int INT_MILE = 2926;
+        static final int INT_MILL = 2927;
+        static final int INT_MILR = 2928;
+        static final int INT_MILT = 2929;
+        static final int INT_MILW = 2930;
+        static final int INT_MILY = 2931;
+        static final int INT_MIMO = 2932;
+        static final int INT_MIND = 2933;
+        static final int INT_MINI = 2934;
+        static final int INT_MINN = 2935;
+        static final int INT_MIRA = 2936;
+        static final int INT_MIST = 2937;
+        static final int INT_MIT = 2938;
+        static final int INT_MITC = 2939;
+        static final int INT_MITS = 2940;
+        static final int INT_MITT = 2941;
+        static final int INT_MJCK = 2942;
+        static final int INT_MJME = 2943;
+        static final int INT_MJMT = 2944;
+        static final int INT_MKMH = 2945;
+        static final int INT_MLBL = 2946;
+        static final int INT_MLLM = 2947;
+        static final int INT_MLLR = 2948;
+        static final int INT_MLRO = 2949;
+        static final int INT_MLTI = 2950;
+        static final int INT_MLTK = 2951;
+        static final int INT_MLXC = 2952;
+        static final int INT_MMCL = 2953;
+        static final int INT_MMMC = 2954;
+        static final int INT_MNAC = 2955;
+        static final int INT_MNAR = 2956;
+        static final int INT_MNDI = 2957;
+        static final int INT_MNLN = 2958;
+        static final int INT_MNNI = 2959;
+        static final int INT_MNRC = 2960;
+        static final int INT_MNRK = 2961;
+        static final int INT_MNRO = 2962;
+        static final int INT_MNSN = 2963;
+        static final int INT_MNTA = 2964;
+        static final int INT_MNTE = 2965;
+        static final int INT_MNTG = 2966;
+        static final int INT_MOAL = 2967;
+        static final int INT_MOBB = 2968;
+        static final int INT_MOBC = 2969;
+        static final int INT_MOBE = 2970;
+        static final int INT_MOBF = 2971;
+        static final int INT_MOBG = 2972;
+        static final int INT_MOBH = 2973;
+        static final int INT_MOBI = 2974;
+        static final int INT_MOBJ = 2975;
+        static final int INT_MOBK = 2976;
+        static final int INT_MOBL = 2977;
+        static final int INT_MOBN = 2978;
+        static final int INT_MOBO = 2979;
+        static final int INT_MOBP = 2980;
+        static final int INT_MOBR = 2981;
+        static final int INT_MOBS = 2982;
+        static final int INT_MOBT = 2983;
+        static final int INT_MOBU = 2984;
+        static final int INT_MOBV = 2985;
+        static final int INT_MOBW = 2986;
+        static final int INT_MOBX = 2987;
+        static final int INT_MOCA = 2988;
+        static final int INT_MOCC = 2989;
+        static final int INT_MOCR = 2990;
+        static final int INT_MOCY = 2991;
+        static final int INT_MODE = 2992;
+        static final int INT_MODH = 2993;
+        static final int INT_MODI = 2994;
+        static final int INT_MODL = 2995;
+        static final int INT_MODN = 2996;
+        static final int INT_MODR = 2997;
+        static final int INT_MODU = 2998;
+        static final int INT_MOFF = 2999;
+        static final int INT_MOGA = 3000;
+        static final int INT_MOGU = 3001;
+        static final int INT_MOHA = 3002;
+        static final int INT_MOHO = 3003;
+        static final int INT_MOJA = 3004;
+        static final int INT_MOLL = 3005;
+        static final int INT_MOLY = 3006;
+        static final int INT_MOMO = 3007;
+        static final int INT_MONA = 3008;
+        static final int INT_MONB = 3009;
+        static final int INT_MONC = 3010;
+        static final int INT_MOND = 3011;
+        static final int INT_MONG = 3012;
+        static final int INT_MONH = 3013;
+        static final int INT_MONI = 3014;
+        static final int INT_MONN = 3015;
+        static final int INT_MONO = 3016;
+        static final int INT_MONR = 3017;
+        static final int INT_MONS = 3018;
+        static final int INT_MONT = 3019;
+        static final int INT_MONU = 3020;
+        static final int INT_MONV = 3021;
+        static final int INT_MONW = 3022;
+        static final int INT_MOOD = 3023;
+        static final int INT_MOOR = 3024;
+        static final int INT_MORD = 3025;
+        static final int INT_MORE = 3026;
+        static final int INT_MORG = 3027;
+        static final int INT_MORI = 3028;
+        static final int INT_MORM = 3029;
+        static final int INT_MORN = 3030;
+        static final int INT_MORR = 3031;
+        static final int INT_MORS = 3032;
+        static final int INT_MORT = 3033;
+        static final int INT_MORU = 3034;
+        static final int INT_MORW = 3035;
+        static final int INT_MOSE = 3036;
+        static final int INT_MOSK = 3037;
+        static final int INT_MOSW = 3038;
+        static final int INT_MOTA = 3039;
+        static final int INT_MOTB = 3040;
+        static final int INT_MOTE = 3041;
+        static final int INT_MOTM = 3042;
+        static final int INT_MOTN = 3043;
+        static final int INT_MOTO = 3044;
+        static final int INT_MOTR = 3045;
+        static final int INT_MOTS = 3046;
+        static final int INT_MOUA = 3047;
+        static final int INT_MOUE = 3048;
+        static final int INT_MOUM = 3049;
+        static final int INT_MOUN = 3050;
+        static final int INT_MOUT = 3051;
+        static final int INT_MOWA = 3052;
+        static final int INT_MOWE = 3053;
+        static final int INT_MPC = 3054;
+        static final int INT_MRAU = 3055;
+        static final int INT_MRCO = 3056;
+        static final int INT_MRCU = 3057;
+        static final int INT_MRED = 3058;
+        static final int INT_MRIN = 3059;
+        static final int INT_MRIO = 3060;
+        static final int INT_MRNE = 3061;
+        static final int INT_MRQM = 3062;
+        static final int INT_MRRA = 3063;
+        static final int INT_MRS = 3064;
+        static final int INT_MRTE = 3065;
+        static final int INT_MRTI = 3066;
+        static final int INT_MRTN = 3067;
+        static final int INT_MRTZ = 3068;
+        static final int INT_MSFI = 3069;
+        static final int INT_MSI = 3070;
+        static final int INT_MSTG = 3071;
+        static final int INT_MSTW = 3072;
+        static final int INT_MT = 3073;
+        static final int INT_MT_AEAG = 3074;
+        static final int INT_MT_AGYL = 3075;
+        static final int INT_MT_AIH = 3076;
+        static final int INT_MT_AJS = 3077;
+        static final int INT_MT_AJW = 3078;
+        static final int INT_MT_ALED = 3079;
+        static final int INT_MT_ALEX = 3080;
+        static final int INT_MT_ALLL = 3081;
+        static final int INT_MT_ALOU = 3082;
+        static final int INT_MT_ALPH = 3083;
+        static final int INT_MT_ALSP = 3084;
+        static final int INT_MT_AMBA = 3085;
+        static final int INT_MT_AMDB = 3086;
+        static final int INT_MT_AMEN = 3087;
+        static final int INT_MT_AMF = 3088;
+        static final int INT_MT_AMI = 3089;
+        static final int INT_MT_AMLF = 3090;
+        static final int INT_MT_AMME = 3091;
+        static final int INT_MT_AMPF = 3092;
+        static final int INT_MT_AMPT = 3093;
+        static final int INT_MT_AMQT = 3094;
+        static final int INT_MT_ANGL = 3095;
+        static final int INT_MT_APRI = 3096;
+        static final int INT_MT_ARCA = 3097;
+        static final int INT_MT_ARGG = 3098;
+        static final int INT_MT_ARIE = 3099;
+        static final int INT_MT_ARTI = 3100;
+        static final int INT_MT_ASPS = 3101;
+        static final int INT_MT_ATAS = 3102;
+        static final int INT_MT_ATEX = 3103;
+        static final int INT_MT_ATK = 3104;
+        static final int INT_MT_ATV = 3105;
+        static final int INT_MT_AUG = 3106;
+        static final int INT_MT_AURA = 3107;
+        static final int INT_MT_AVAN = 3108;
+        static final int INT_MT_BAJA = 3109;
+        static final int INT_MT_BALK = 3110;
+        static final int INT_MT_BANM = 3111;
+        static final int INT_MT_BBW = 3112;
+        static final int INT_MT_BDFL = 3113;
+        static final int INT_MT_BEBE = 3114;
+        static final int INT_MT_BENE = 3115;
+        static final int INT_MT_BETA = 3116;
+        static final int INT_MT_BGDG = 3117;
+        static final int INT_MT_BGHM = 3118;
+        static final int INT_MT_BIAN = 3119;
+        static final int INT_MT_BIMO = 3120;
+        static final int INT_MT_BIRD = 3121;
+        static final int INT_MT_BLAE = 3122;
+        static final int INT_MT_BMW = 3123;
+        static final int INT_MT_BNZA = 3124;
+        static final int INT_MT_BOMB = 3125;
+        static final int INT_MT_BOND = 3126;
+        static final int INT_MT_BOSS = 3127;
+        static final int INT_MT_BREK = 3128;
+        static final int INT_MT_BRID = 3129;
+        static final int INT_MT_BRLL = 3130;
+        static final int INT_MT_BRON = 3131;
+        static final int INT_MT_BRST = 3132;
+        static final int INT_MT_BRTT = 3133;
+        static final int INT_MT_BRUT = 3134;
+        static final int INT_MT_BSA = 3135;
+        static final int INT_MT_BTVS = 3136;
+        static final int INT_MT_BUEL = 3137;
+        static final int INT_MT_BUG = 3138;
+        static final int INT_MT_BULT = 3139;
+        static final int INT_MT_BURO = 3140;
+        static final int INT_MT_CAAR = 3141;
+        static final int INT_MT_CABK = 3142;
+        static final int INT_MT_CACY = 3143;
+        static final int INT_MT_CAFF = 3144;
+        static final int INT_MT_CALO = 3145;
+        static final int INT_MT_CANA = 3146;
+        static final int INT_MT_CANN = 3147;
+        static final int INT_MT_CAPR = 3148;
+        static final int INT_MT_CASL = 3149;
+        static final int INT_MT_CATM = 3150;
+        static final int INT_MT_CBRO = 3151;
+        static final int INT_MT_CCCY = 3152;
+        static final int INT_MT_CENT = 3153;
+        static final int INT_MT_CEZE = 3154;
+        static final int INT_MT_CHAP = 3155;
+        static final int INT_MT_CHIB = 3156;
+        static final int INT_MT_CHLY = 3157;
+        static final int INT_MT_CHMC = 3158;
+        static final int INT_MT_CHTH = 3159;
+        static final int INT_MT_CIMA = 3160;
+        static final int INT_MT_CJGC = 3161;
+        static final int INT_MT_CLIT = 3162;
+        static final int INT_MT_CLMN = 3163;
+        static final int INT_MT_CMCC = 3164;
+        static final int INT_MT_CMCW = 3165;
+        static final int INT_MT_CMPG = 3166;
+        static final int INT_MT_COBM = 3167;
+        static final int INT_MT_COCO = 3168;
+        static final int INT_MT_COLB = 3169;
+        static final int INT_MT_COMU = 3170;
+        static final int INT_MT_COND = 3171;
+        static final int INT_MT_CONF = 3172;
+        static final int INT_MT_CONT = 3173;
+        static final int INT_MT_COOP = 3174;
+        static final int INT_MT_COSM = 3175;
+        static final int INT_MT_COTN = 3176;
+        static final int INT_MT_CRAF = 3177;
+        static final int INT_MT_CREL = 3178;
+        static final int INT_MT_CRGR = 3179;
+        static final int INT_MT_CTTM = 3180;
+        static final int INT_MT_CUSH = 3181;
+        static final int INT_MT_CUYL = 3182;
+        static final int INT_MT_CWPC = 3183;
+        static final int INT_MT_CYCL = 3184;
+        static final int INT_MT_CYSC = 3185;
+        static final int INT_MT_CZ = 3186;
+        static final int INT_MT_DALE = 3187;
+        static final int INT_MT_DANU = 3188;
+        static final int INT_MT_DARW = 3189;
+        static final int INT_MT_DAZN = 3190;
+        static final int INT_MT_DEER = 3191;
+        static final int INT_MT_DERB = 3192;
+        static final int INT_MT_DINL = 3193;
+        static final int INT_MT_DKR = 3194;
+        static final int INT_MT_DKW = 3195;
+        static final int INT_MT_DMP = 3196;
+        static final int INT_MT_DOT = 3197;
+        static final int INT_MT_DSPD = 3198;
+        static final int INT_MT_DUCA = 3199;
+        static final int INT_MT_DYCY = 3200;
+        static final int INT_MT_DYTC = 3201;
+        static final int INT_MT_ECOB = 3202;
+        static final int INT_MT_ECTA = 3203;
+        static final int INT_MT_EDWN = 3204;
+        static final int INT_MT_EGLE = 3205;
+        static final int INT_MT_EKCH = 3206;
+        static final int INT_MT_ELCY = 3207;
+        static final int INT_MT_ELVT = 3208;
+        static final int INT_MT_EMML = 3209;
+        static final int INT_MT_ENMC = 3210;
+        static final int INT_MT_ESIX = 3211;
+        static final int INT_MT_ETON = 3212;
+        static final int INT_MT_EXCR = 3213;
+        static final int INT_MT_EXCY = 3214;
+        static final int INT_MT_EXHE = 3215;
+        static final int INT_MT_EXPL = 3216;
+        static final int INT_MT_FATC = 3217;
+        static final int INT_MT_FHL = 3218;
+        static final int INT_MT_FLAN = 3219;
+        static final int INT_MT_FLEO = 3220;
+        static final int INT_MT_FLYI = 3221;
+        static final int INT_MT_FN = 3222;
+        static final int INT_MT_FNTM = 3223;
+        static final int INT_MT_FOMO = 3224;
+        static final int INT_MT_FOX = 3225;
+        static final int INT_MT_FOXI = 3226;
+        static final int INT_MT_FRBA = 3227;
+        static final int INT_MT_FRUN = 3228;
+        static final int INT_MT_FTRC = 3229;
+        static final int INT_MT_FUJI = 3230;
+        static final int INT_MT_GABB = 3231;
+        static final int INT_MT_GADB = 3232;
+        static final int INT_MT_GARE = 3233;
+        static final int INT_MT_GEEL = 3234;
+        static final int INT_MT_GEMI = 3235;
+        static final int INT_MT_GENR = 3236;
+        static final int INT_MT_GILE = 3237;
+        static final int INT_MT_GILL = 3238;
+        static final int INT_MT_GISN = 3239;
+        static final int INT_MT_GITA = 3240;
+        static final int INT_MT_GLBE = 3241;
+        static final int INT_MT_GLMB = 3242;
+        static final int INT_MT_GOGO = 3243;
+        static final int INT_MT_GOKT = 3244;
+        static final int INT_MT_GREV = 3245;
+        static final int INT_MT_GROV = 3246;
+        static final int INT_MT_GRRM = 3247;
+        static final int INT_MT_GRYE = 3248;
+        static final int INT_MT_GUIZ = 3249;
+        static final int INT_MT_GUZO = 3250;
+        static final int INT_MT_HANS = 3251;
+        static final int INT_MT_HAWT = 3252;
+        static final int INT_MT_HD = 3253;
+        static final int INT_MT_HEAL = 3254;
+        static final int INT_MT_HEAT = 3255;
+        static final int INT_MT_HEIN = 3256;
+        static final int INT_MT_HERC = 3257;
+        static final int INT_MT_HGON = 3258;
+        static final int INT_MT_HIAW = 3259;
+        static final int INT_MT_HLDH = 3260;
+        static final int INT_MT_HMVE = 3261;
+        static final int INT_MT_HODA = 3262;
+        static final int INT_MT_HOF = 3263;
+        static final int INT_MT_HOMD = 3264;
+        static final int INT_MT_HOND = 3265;
+        static final int INT_MT_HORX = 3266;
+        static final int INT_MT_HRTR = 3267;
+        static final int INT_MT_HUFY = 3268;
+        static final int INT_MT_HUML = 3269;
+        static final int INT_MT_HUSA = 3270;
+        static final int INT_MT_HUSK = 3271;
+        static final int INT_MT_HUSQ = 3272;
+        static final int INT_MT_HYOS = 3273;
+        static final int INT_MT_IND = 3274;
+        static final int INT_MT_INDI = 3275;
+        static final int INT_MT_INGL = 3276;
+        static final int INT_MT_INMC = 3277;
+        static final int INT_MT_ITAL = 3278;
+        static final int INT_MT_ITAT = 3279;
+        static final int INT_MT_ITAV = 3280;
+        static final int INT_MT_ITOM = 3281;
+        static final int INT_MT_JAMM = 3282;
+        static final int INT_MT_JAWA = 3283;
+        static final int INT_MT_JB = 3284;
+        static final int INT_MT_JEHM = 3285;
+        static final int INT_MT_JIAN = 3286;
+        static final int INT_MT_JINS = 3287;
+        static final int INT_MT_JMCY = 3288;
+        static final int INT_MT_JMS = 3289;
+        static final int INT_MT_JOLI = 3290;
+        static final int INT_MT_JPTR = 3291;
+        static final int INT_MT_JUIL = 3292;
+        static final int INT_MT_KAM = 3293;
+        static final int INT_MT_KAMI = 3294;
+        static final int INT_MT_KANN = 3295;
+        static final int INT_MT_KAWK = 3296;
+        static final int INT_MT_KAZU = 3297;
+        static final int INT_MT_KCCF = 3298;
+        static final int INT_MT_KENY = 3299;
+        static final int INT_MT_KITK = 3300;
+        static final int INT_MT_KMSR = 3301;
+        static final int INT_MT_KNBR = 3302;
+        static final int INT_MT_KNTC = 3303;
+        static final int INT_MT_KOMR = 3304;
+        static final int INT_MT_KRDL = 3305;
+        static final int INT_MT_KROM = 3306;
+        static final int INT_MT_KSEA = 3307;
+        static final int INT_MT_KTM = 3308;
+        static final int INT_MT_KYMC = 3309;
+        static final int INT_MT_LAMB = 3310;
+        static final int INT_MT_LANR = 3311;
+        static final int INT_MT_LAVE = 3312;
+        static final int INT_MT_LAZE = 3313;
+        static final int INT_MT_LCHG = 3314;
+        static final int INT_MT_LECT = 3315;
+        static final int INT_MT_LEKT = 3316;
+        static final int INT_MT_LEM = 3317;
+        static final int INT_MT_LEVI = 3318;
+        static final int INT_MT_LILA = 3319;
+        static final int INT_MT_LILN = 3320;
+        static final int INT_MT_LINH = 3321;
+        static final int INT_MT_LOM = 3322;
+        static final int INT_MT_LUKY = 3323;
+        static final int INT_MT_LYMA = 3324;
+        static final int INT_MT_MADM = 3325;
+        static final int INT_MT_MAIC = 3326;
+        static final int INT_MT_MALA = 3327;
+        static final int INT_MT_MALN = 3328;
+        static final int INT_MT_MALY = 3329;
+        static final int INT_MT_MANC = 3330;
+        static final int INT_MT_MANE = 3331;
+        static final int INT_MT_MARU = 3332;
+        static final int INT_MT_MASY = 3333;
+        static final int INT_MT_MATR = 3334;
+        static final int INT_MT_MAV = 3335;
+        static final int INT_MT_MBEE = 3336;
+        static final int INT_MT_MDS = 3337;
+        static final int INT_MT_MEIT = 3338;
+        static final int INT_MT_MINI = 3339;
+        static final int INT_MT_MINN = 3340;
+        static final int INT_MT_MMCL = 3341;
+        static final int INT_MT_MNAR = 3342;
+        static final int INT_MT_MNRK = 3343;
+        static final int INT_MT_MNSN = 3344;
+        static final int INT_MT_MOBE = 3345;
+        static final int INT_MT_MOBI = 3346;
+        static final int INT_MT_MOCR = 3347;
+        static final int INT_MT_MOCY = 3348;
+        static final int INT_MT_MOGU = 3349;
+        static final int INT_MT_MOJA = 3350;
+        static final int INT_MT_MOMO = 3351;
+        static final int INT_MT_MOND = 3352;
+        static final int INT_MT_MONT = 3353;
+        static final int INT_MT_MORU = 3354;
+        static final int INT_MT_MOTB = 3355;
+        static final int INT_MT_MOTM = 3356;
+        static final int INT_MT_MOTN = 3357;
+        static final int INT_MT_MOTS = 3358;
+        static final int INT_MT_MRCO = 3359;
+        static final int INT_MT_MRTE = 3360;
+        static final int INT_MT_MTBE = 3361;
+        static final int INT_MT_MTCH = 3362;
+        static final int INT_MT_MTD = 3363;
+        static final int INT_MT_MUHL = 3364;
+        static final int INT_MT_MURR = 3365;
+        static final int INT_MT_MUST = 3366;
+        static final int INT_MT_MVAU = 3367;
+        static final int INT_MT_MWCH = 3368;
+        static final int INT_MT_MZ = 3369;
+        static final int INT_MT_NEGR = 3370;
+        static final int INT_MT_NEVM = 3371;
+        static final int INT_MT_NFLD = 3372;
+        static final int INT_MT_NORM = 3373;
+        static final int INT_MT_NORT = 3374;
+        static final int INT_MT_NSU = 3375;
+        static final int INT_MT_NUON = 3376;
+        static final int INT_MT_NVTA = 3377;
+        static final int INT_MT_ODSS = 3378;
+        static final int INT_MT_OMEG = 3379;
+        static final int INT_MT_OPL = 3380;
+        static final int INT_MT_OSSA = 3381;
+        static final int INT_MT_OZBK = 3382;
+        static final int INT_MT_PACE = 3383;
+        static final int INT_MT_PACS = 3384;
+        static final int INT_MT_PAGS = 3385;
+        static final int INT_MT_PAIS = 3386;
+        static final int INT_MT_PAND = 3387;
+        static final int INT_MT_PANN = 3388;
+        static final int INT_MT_PANT = 3389;
+        static final int INT_MT_PARI = 3390;
+        static final int INT_MT_PAUG = 3391;
+        static final int INT_MT_PDRS = 3392;
+        static final int INT_MT_PDV = 3393;
+        static final int INT_MT_PEDA = 3394;
+        static final int INT_MT_PEDD = 3395;
+        static final int INT_MT_PEGA = 3396;
+        static final int INT_MT_PENN = 3397;
+        static final int INT_MT_PENT = 3398;
+        static final int INT_MT_PEUG = 3399;
+        static final int INT_MT_PGSS = 3400;
+        static final int INT_MT_PHOE = 3401;
+        static final int INT_MT_PIAZ = 3402;
+        static final int INT_MT_PINT = 3403;
+        static final int INT_MT_PNTA = 3404;
+        static final int INT_MT_PNZR = 3405;
+        static final int INT_MT_POIN = 3406;
+        static final int INT_MT_POLI = 3407;
+        static final int INT_MT_POLS = 3408;
+        static final int INT_MT_PONY = 3409;
+        static final int INT_MT_POWL = 3410;
+        static final int INT_MT_PRCW = 3411;
+        static final int INT_MT_PREM = 3412;
+        static final int INT_MT_PRNE = 3413;
+        static final int INT_MT_PROG = 3414;
+        static final int INT_MT_PROM = 3415;
+        static final int INT_MT_PRYE = 3416;
+        static final int INT_MT_PSCC = 3417;
+        static final int INT_MT_PUCH = 3418;
+        static final int INT_MT_PWDY = 3419;
+        static final int INT_MT_QING = 3420;
+        static final int INT_MT_QINJ = 3421;
+        static final int INT_MT_RABB = 3422;
+        static final int INT_MT_RABJ = 3423;
+        static final int INT_MT_RCCM = 3424;
+        static final int INT_MT_RDER = 3425;
+        static final int INT_MT_RDLY = 3426;
+        static final int INT_MT_RECO = 3427;
+        static final int INT_MT_RECR = 3428;
+        static final int INT_MT_REDH = 3429;
+        static final int INT_MT_REVN = 3430;
+        static final int INT_MT_REX = 3431;
+        static final int INT_MT_RICK = 3432;
+        static final int INT_MT_RIVI = 3433;
+        static final int INT_MT_RIVS = 3434;
+        static final int INT_MT_RKWL = 3435;
+        static final int INT_MT_ROCK = 3436;
+        static final int INT_MT_ROEN = 3437;
+        static final int INT_MT_ROKN = 3438;
+        static final int INT_MT_ROLL = 3439;
+        static final int INT_MT_ROLT = 3440;
+        static final int INT_MT_RORU = 3441;
+        static final int INT_MT_RPTR = 3442;
+        static final int INT_MT_RRMM = 3443;
+        static final int INT_MT_RUMI = 3444;
+        static final int INT_MT_RUPP = 3445;
+        static final int INT_MT_RUTM = 3446;
+        static final int INT_MT_RUTT = 3447;
+        static final int INT_MT_SACH = 3448;
+        static final int INT_MT_SAFA = 3449;
+        static final int INT_MT_SAFT = 3450;
+        static final int INT_MT_SALB = 3451;
+        static final int INT_MT_SANT = 3452;
+        static final int INT_MT_SARA = 3453;
+        static final int INT_MT_SCAM = 3454;
+        static final int INT_MT_SCAT = 3455;
+        static final int INT_MT_SCOA = 3456;
+        static final int INT_MT_SCOR = 3457;
+        static final int INT_MT_SCOT = 3458;
+        static final int INT_MT_SEAG = 3459;
+        static final int INT_MT_SEAR = 3460;
+        static final int INT_MT_SECY = 3461;
+        static final int INT_MT_SEXT = 3462;
+        static final int INT_MT_SFM = 3463;
+        static final int INT_MT_SHJZ = 3464;
+        static final int INT_MT_SHL = 3465;
+        static final int INT_MT_SHRC = 3466;
+        static final int INT_MT_SILP = 3467;
+        static final int INT_MT_SIMS = 3468;
+        static final int INT_MT_SKTM = 3469;
+        static final int INT_MT_SLEL = 3470;
+        static final int INT_MT_SMBT = 3471;
+        static final int INT_MT_SMIL = 3472;
+        static final int INT_MT_SMLX = 3473;
+        static final int INT_MT_SNDR = 3474;
+        static final int INT_MT_SNOC = 3475;
+        static final int INT_MT_SNOW = 3476;
+        static final int INT_MT_SNSA = 3477;
+        static final int INT_MT_SNTE = 3478;
+        static final int INT_MT_SOLO = 3479;
+        static final int INT_MT_SONI = 3480;
+        static final int INT_MT_SPAR = 3481;
+        static final int INT_MT_SPBD = 3482;
+        static final int INT_MT_SPCY = 3483;
+        static final int INT_MT_SPEC = 3484;
+        static final int INT_MT_SPED = 3485;
+        static final int INT_MT_SPEG = 3486;
+        static final int INT_MT_SPNT = 3487;
+        static final int INT_MT_SPOR = 3488;
+        static final int INT_MT_SPRD = 3489;
+        static final int INT_MT_SPRE = 3490;
+        static final int INT_MT_SPWY = 3491;
+        static final int INT_MT_SUFL = 3492;
+        static final int INT_MT_SUN = 3493;
+        static final int INT_MT_SUNB = 3494;
+        static final int INT_MT_SUVE = 3495;
+        static final int INT_MT_SUZI = 3496;
+        static final int INT_MT_SWIF = 3497;
+        static final int INT_MT_SWIT = 3498;
+        static final int INT_MT_SWM = 3499;
+        static final int INT_MT_TACQ = 3500;
+        static final int INT_MT_TAIZ = 3501;
+        static final int INT_MT_TAKA = 3502;
+        static final int INT_MT_TALG = 3503;
+        static final int INT_MT_TECU = 3504;
+        static final int INT_MT_TEMP = 3505;
+        static final int INT_MT_TESI = 3506;
+        static final int INT_MT_TG = 3507;
+        static final int INT_MT_THPN = 3508;
+        static final int INT_MT_TITN = 3509;
+        static final int INT_MT_TMCC = 3510;
+        static final int INT_MT_TOHA = 3511;
+        static final int INT_MT_TOMO = 3512;
+        static final int INT_MT_TORA = 3513;
+        static final int INT_MT_TORR = 3514;
+        static final int INT_MT_TOWR = 3515;
+        static final int INT_MT_TRBO = 3516;
+        static final int INT_MT_TRBR = 3517;
+        static final int INT_MT_TRBZ = 3518;
+        static final int INT_MT_TRDD = 3519;
+        static final int INT_MT_TRFL = 3520;
+        static final int INT_MT_TRHK = 3521;
+        static final int INT_MT_TRHO = 3522;
+        static final int INT_MT_TRIH = 3523;
+        static final int INT_MT_TRIK = 3524;
+        static final int INT_MT_TRPT = 3525;
+        static final int INT_MT_TRRD = 3526;
+        static final int INT_MT_TRSP = 3527;
+        static final int INT_MT_TRTR = 3528;
+        static final int INT_MT_TRUM = 3529;
+        static final int INT_MT_TRVS = 3530;
+        static final int INT_MT_TSSY = 3531;
+        static final int INT_MT_TUTR = 3532;
+        static final int INT_MT_TWIS = 3533;
+        static final int INT_MT_TWN = 3534;
+        static final int INT_MT_TWST = 3535;
+        static final int INT_MT_TYAN = 3536;
+        static final int INT_MT_TYCO = 3537;
+        static final int INT_MT_ULAC = 3538;
+        static final int INT_MT_ULMC = 3539;
+        static final int INT_MT_ULTM = 3540;
+        static final int INT_MT_UNLI = 3541;
+        static final int INT_MT_URAL = 3542;
+        static final int INT_MT_VALI = 3543;
+        static final int INT_MT_VANV = 3544;
+        static final int INT_MT_VATC = 3545;
+        static final int INT_MT_VCTY = 3546;
+        static final int INT_MT_VEGL = 3547;
+        static final int INT_MT_VENU = 3548;
+        static final int INT_MT_VESP = 3549;
+        static final int INT_MT_VICT = 3550;
+        static final int INT_MT_VILL = 3551;
+        static final int INT_MT_VINC = 3552;
+        static final int INT_MT_VLCN = 3553;
+        static final int INT_MT_VLCT = 3554;
+        static final int INT_MT_VNTO = 3555;
+        static final int INT_MT_VREN = 3556;
+        static final int INT_MT_VTMT = 3557;
+        static final int INT_MT_WASP = 3558;
+        static final int INT_MT_WAYN = 3559;
+        static final int INT_MT_WHIT = 3560;
+        static final int INT_MT_WHZR = 3561;
+        static final int INT_MT_WILD = 3562;
+        static final int INT_MT_WILG = 3563;
+        static final int INT_MT_WILS = 3564;
+        static final int INT_MT_WSK = 3565;
+        static final int INT_MT_WTSN = 3566;
+        static final int INT_MT_WWMC = 3567;
+        static final int INT_MT_XTRM = 3568;
+        static final int INT_MT_YAMA = 3569;
+        static final int INT_MT_YANK = 3570;
+        static final int INT_MT_YENC = 3571;
+        static final int INT_MT_ZHON = 3572;
+        static final int INT_MT_ZNEL = 3573;
+        static final int INT_MT_ZOBO = 3574;
+        static final int INT_MT_ZUND = 3575;
+        static final int INT_MTBE = 3576;
+        static final int INT_MTCH = 3577;
+        static final int INT_MTCI = 3578;
+        static final int INT_MTD = 3579;
+        static final int INT_MTMV = 3580;
+        static final int INT_MTPA = 3581;
+        static final int INT_MTPI = 3582;
+        static final int INT_MTRA = 3583;
+        static final int INT_MTRY = 3584;
+        static final int INT_MTTI = 3585;
+        static final int INT_MUDC = 3586;
+        static final int INT_MUHL = 3587;
+        static final int INT_MULE = 3588;
+        static final int INT_MULL = 3589;
+        static final int INT_MULQ = 3590;
+        static final int INT_MULT = 3591;
+        static final int INT_MUNC = 3592;
+        static final int INT_MUNT = 3593;
+        static final int INT_MURE = 3594;
+        static final int INT_MURM = 3595;
+        static final int INT_MURP = 3596;
+        static final int INT_MURR = 3597;
+        static final int INT_MURT = 3598;
+        static final int INT_MUSG = 3599;
+        static final int INT_MUST = 3600;
+        static final int INT_MUVA = 3601;
+        static final int INT_MVAU = 3602;
+        static final int INT_MVEN = 3603;
+        static final int INT_MWCH = 3604;
+        static final int INT_MWGE = 3605;
+        static final int INT_MWMC = 3606;
+        static final int INT_MWST = 3607;
+        static final int INT_MXAT = 3608;
+        static final int INT_MYCO = 3609;
+        static final int INT_MYFA = 3610;
+        static final int INT_MYWA = 3611;
+        static final int INT_MZ = 3612;
+        static final int INT_MZMA = 3613;
+        static final int INT_NABO = 3614;
+        static final int INT_NACR = 3615;
+        static final int INT_NAHE = 3616;
+        static final int INT_NAMC = 3617;
+        static final int INT_NAMO = 3618;
+        static final int INT_NARD = 3619;
+        static final int INT_NASA = 3620;
+        static final int INT_NASH = 3621;
+        static final int INT_NASM = 3622;
+        static final int INT_NASU = 3623;
+        static final int INT_NATL = 3624;
+        static final int INT_NATW = 3625;
+        static final int INT_NAVI = 3626;
+        static final int INT_NAVJ = 3627;
+        static final int INT_NBAY = 3628;
+        static final int INT_NDMC = 3629;
+        static final int INT_NEAL = 3630;
+        static final int INT_NEBM = 3631;
+        static final int INT_NECK = 3632;
+        static final int INT_NECT = 3633;
+        static final int INT_NEDL = 3634;
+        static final int INT_NEGR = 3635;
+        static final int INT_NEHO = 3636;
+        static final int INT_NELL = 3637;
+        static final int INT_NELN = 3638;
+        static final int INT_NELS = 3639;
+        static final int INT_NEOP = 3640;
+        static final int INT_NEOS = 3641;
+        static final int INT_NEPT = 3642;
+        static final int INT_NERC = 3643;
+        static final int INT_NEUF = 3644;
+        static final int INT_NEVA = 3645;
+        static final int INT_NEVD = 3646;
+        static final int INT_NEVI = 3647;
+        static final int INT_NEVL = 3648;
+        static final int INT_NEVM = 3649;
+        static final int INT_NEWC = 3650;
+        static final int INT_NEWD = 3651;
+        static final int INT_NEWE = 3652;
+        static final int INT_NEWH = 3653;
+        static final int INT_NEWI = 3654;
+        static final int INT_NEWK = 3655;
+        static final int INT_NEWL = 3656;
+        static final int INT_NEWM = 3657;
+        static final int INT_NEWN = 3658;
+        static final int INT_NEWP = 3659;
+        static final int INT_NEWS = 3660;
+        static final int INT_NEWT = 3661;
+        static final int INT_NFLD = 3662;
+        static final int INT_NHYD = 3663;
+        static final int INT_NIAG = 3664;
+        static final int INT_NICE = 3665;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("AAPX", INT_AAPX),
+                new Enum("AARD", INT_AARD),
+                new Enum("AATM", INT_AATM),
+                new Enum("AATS", INT_AATS),
+                new Enum("AAWL", INT_AAWL),
+                new Enum("AAWS", INT_AAWS),
+                new Enum("ABAR", INT_ABAR),
+                new Enum("ABBO", INT_ABBO),
+                new Enum("ABC", INT_ABC),
+                new Enum("ABCC", INT_ABCC),
+                new Enum("ABCH", INT_ABCH),
+                new Enum("ABCO", INT_ABCO),
+                new Enum("ABER", INT_ABER),
+                new Enum("ABFI", INT_ABFI),
+                new Enum("ABIA", INT_ABIA),
+                new Enum("ABTM", INT_ABTM),
+                new Enum("ABTR", INT_ABTR),
+                new Enum("AC", INT_AC),
+                new Enum("ACAD", INT_ACAD),
+                new Enum("ACAE", INT_ACAE),
+                new Enum("ACAI", INT_ACAI),
+                new Enum("ACCU", INT_ACCU),
+                new Enum("ACE", INT_ACE),
+                new Enum("ACEC", INT_ACEC),
+                new Enum("ACEE", INT_ACEE),
+                new Enum("ACKN", INT_ACKN),
+                new Enum("ACME", INT_ACME),
+                new Enum("ACMM", INT_ACMM),
+                new Enum("ACOR", INT_ACOR),
+                new Enum("ACRO", INT_ACRO),
+                new Enum("ACTD", INT_ACTD),
+                new Enum("ACTE", INT_ACTE),
+                new Enum("ACTO", INT_ACTO),
+                new Enum("ACUR", INT_ACUR),
+                new Enum("ADA", INT_ADA),
+                new Enum("ADBV", INT_ADBV),
+                new Enum("ADDI", INT_ADDI),
+                new Enum("ADET", INT_ADET),
+                new Enum("ADLR", INT_ADLR),
+                new Enum("ADMI", INT_ADMI),
+                new Enum("ADMS", INT_ADMS),
+                new Enum("ADMT", INT_ADMT),
+                new Enum("ADSP", INT_ADSP),
+                new Enum("ADVA", INT_ADVA),
+                new Enum("ADVE", INT_ADVE),
+                new Enum("ADVN", INT_ADVN),
+                new Enum("ADVS", INT_ADVS),
+                new Enum("AEAG", INT_AEAG),
+                new Enum("AELI", INT_AELI),
+                new Enum("AERA", INT_AERA),
+                new Enum("AERG", INT_AERG),
+                new Enum("AERI", INT_AERI),
+                new Enum("AERO", INT_AERO),
+                new Enum("AETA", INT_AETA),
+                new Enum("AGCH", INT_AGCH),
+                new Enum("AGCO", INT_AGCO),
+                new Enum("AGDC", INT_AGDC),
+                new Enum("AGRA", INT_AGRA),
+                new Enum("AGRI", INT_AGRI),
+                new Enum("AGRO", INT_AGRO),
+                new Enum("AGSY", INT_AGSY),
+                new Enum("AGTR", INT_AGTR),
+                new Enum("AGYL", INT_AGYL),
+                new Enum("AIH", INT_AIH),
+                new Enum("AIRC", INT_AIRC),
+                new Enum("AIRE", INT_AIRE),
+                new Enum("AIRF", INT_AIRF),
+                new Enum("AIRI", INT_AIRI),
+                new Enum("AIRM", INT_AIRM),
+                new Enum("AIRO", INT_AIRO),
+                new Enum("AIRP", INT_AIRP),
+                new Enum("AIRS", INT_AIRS),
+                new Enum("AJAX", INT_AJAX),
+                new Enum("AJIN", INT_AJIN),
+                new Enum("AJS", INT_AJS),
+                new Enum("AJTR", INT_AJTR),
+                new Enum("AJW", INT_AJW),
+                new Enum("AJXE", INT_AJXE),
+                new Enum("ALAB", INT_ALAB),
+                new Enum("ALAD", INT_ALAD),
+                new Enum("ALAI", INT_ALAI),
+                new Enum("ALAR", INT_ALAR),
+                new Enum("ALAS", INT_ALAS),
+                new Enum("ALBE", INT_ALBE),
+                new Enum("ALCA", INT_ALCA),
+                new Enum("ALCI", INT_ALCI),
+                new Enum("ALCO", INT_ALCO),
+                new Enum("ALED", INT_ALED),
+                new Enum("ALEN", INT_ALEN),
+                new Enum("ALEX", INT_ALEX),
+                new Enum("ALFA", INT_ALFA),
+                new Enum("ALFB", INT_ALFB),
+                new Enum("ALFO", INT_ALFO),
+                new Enum("ALIE", INT_ALIE),
+                new Enum("ALIS", INT_ALIS),
+                new Enum("ALJO", INT_ALJO),
+                new Enum("ALKO", INT_ALKO),
+                new Enum("ALL", INT_ALL),
+                new Enum("ALLA", INT_ALLA),
+                new Enum("ALLB", INT_ALLB),
+                new Enum("ALLC", INT_ALLC),
+                new Enum("ALLD", INT_ALLD),
+                new Enum("ALLE", INT_ALLE),
+                new Enum("ALLF", INT_ALLF),
+                new Enum("ALLI", INT_ALLI),
+                new Enum("ALLK", INT_ALLK),
+                new Enum("ALLL", INT_ALLL),
+                new Enum("ALLM", INT_ALLM),
+                new Enum("ALLN", INT_ALLN),
+                new Enum("ALLO", INT_ALLO),
+                new Enum("ALLP", INT_ALLP),
+                new Enum("ALLR", INT_ALLR),
+                new Enum("ALLS", INT_ALLS),
+                new Enum("ALLT", INT_ALLT),
+                new Enum("ALLU", INT_ALLU),
+                new Enum("ALLW", INT_ALLW),
+                new Enum("ALMA", INT_ALMA),
+                new Enum("ALMC", INT_ALMC),
+                new Enum("ALMD", INT_ALMD),
+                new Enum("ALME", INT_ALME),
+                new Enum("ALMI", INT_ALMI),
+                new Enum("ALMN", INT_ALMN),
+                new Enum("ALNM", INT_ALNM),
+                new Enum("ALOH", INT_ALOH),
+                new Enum("ALOU", INT_ALOU),
+                new Enum("ALPF", INT_ALPF),
+                new Enum("ALPH", INT_ALPH),
+                new Enum("ALPI", INT_ALPI),
+                new Enum("ALSE", INT_ALSE),
+                new Enum("ALSP", INT_ALSP),
+                new Enum("ALST", INT_ALST),
+                new Enum("ALTA", INT_ALTA),
+                new Enum("ALTC", INT_ALTC),
+                new Enum("ALTE", INT_ALTE),
+                new Enum("ALUC", INT_ALUC),
+                new Enum("ALUE", INT_ALUE),
+                new Enum("ALUM", INT_ALUM),
+                new Enum("ALUT", INT_ALUT),
+                new Enum("ALVI", INT_ALVI),
+                new Enum("ALWY", INT_ALWY),
+                new Enum("ALYT", INT_ALYT),
+                new Enum("AM", INT_AM),
+                new Enum("AMAU", INT_AMAU),
+                new Enum("AMBA", INT_AMBA),
+                new Enum("AMC", INT_AMC),
+                new Enum("AMCC", INT_AMCC),
+                new Enum("AMCM", INT_AMCM),
+                new Enum("AMCO", INT_AMCO),
+                new Enum("AMCP", INT_AMCP),
+                new Enum("AMCR", INT_AMCR),
+                new Enum("AMDB", INT_AMDB),
+                new Enum("AMDI", INT_AMDI),
+                new Enum("AME", INT_AME),
+                new Enum("AMEA", INT_AMEA),
+                new Enum("AMEB", INT_AMEB),
+                new Enum("AMEC", INT_AMEC),
+                new Enum("AMED", INT_AMED),
+                new Enum("AMEE", INT_AMEE),
+                new Enum("AMEH", INT_AMEH),
+                new Enum("AMEI", INT_AMEI),
+                new Enum("AMEL", INT_AMEL),
+                new Enum("AMEM", INT_AMEM),
+                new Enum("AMEN", INT_AMEN),
+                new Enum("AMEP", INT_AMEP),
+                new Enum("AMER", INT_AMER),
+                new Enum("AMES", INT_AMES),
+                new Enum("AMET", INT_AMET),
+                new Enum("AMF", INT_AMF),
+                new Enum("AMFA", INT_AMFA),
+                new Enum("AMGN", INT_AMGN),
+                new Enum("AMHL", INT_AMHL),
+                new Enum("AMHO", INT_AMHO),
+                new Enum("AMI", INT_AMI),
+                new Enum("AMIN", INT_AMIN),
+                new Enum("AMJE", INT_AMJE),
+                new Enum("AMLF", INT_AMLF),
+                new Enum("AMMA", INT_AMMA),
+                new Enum("AMME", INT_AMME),
+                new Enum("AMPC", INT_AMPC),
+                new Enum("AMPF", INT_AMPF),
+                new Enum("AMPH", INT_AMPH),
+                new Enum("AMPT", INT_AMPT),
+                new Enum("AMQT", INT_AMQT),
+                new Enum("AMRC", INT_AMRC),
+                new Enum("AMRD", INT_AMRD),
+                new Enum("AMRI", INT_AMRI),
+                new Enum("AMRO", INT_AMRO),
+                new Enum("AMSW", INT_AMSW),
+                new Enum("AMT", INT_AMT),
+                new Enum("AMTC", INT_AMTC),
+                new Enum("AMTN", INT_AMTN),
+                new Enum("AMTR", INT_AMTR),
+                new Enum("AMTS", INT_AMTS),
+                new Enum("AMYP", INT_AMYP),
+                new Enum("ANAL", INT_ANAL),
+                new Enum("ANCH", INT_ANCH),
+                new Enum("ANDE", INT_ANDE),
+                new Enum("ANDH", INT_ANDH),
+                new Enum("ANDI", INT_ANDI),
+                new Enum("ANDM", INT_ANDM),
+                new Enum("ANDR", INT_ANDR),
+                new Enum("ANDS", INT_ANDS),
+                new Enum("ANGE", INT_ANGE),
+                new Enum("ANGL", INT_ANGL),
+                new Enum("ANTH", INT_ANTH),
+                new Enum("ANTO", INT_ANTO),
+                new Enum("AOKT", INT_AOKT),
+                new Enum("AONE", INT_AONE),
+                new Enum("APAC", INT_APAC),
+                new Enum("APAE", INT_APAE),
+                new Enum("APAH", INT_APAH),
+                new Enum("APEC", INT_APEC),
+                new Enum("APEX", INT_APEX),
+                new Enum("APLE", INT_APLE),
+                new Enum("APOL", INT_APOL),
+                new Enum("APPA", INT_APPA),
+                new Enum("APPL", INT_APPL),
+                new Enum("APRI", INT_APRI),
+                new Enum("AQCR", INT_AQCR),
+                new Enum("AQUA", INT_AQUA),
+                new Enum("AQUT", INT_AQUT),
+                new Enum("ARAB", INT_ARAB),
+                new Enum("ARCA", INT_ARCA),
+                new Enum("ARCC", INT_ARCC),
+                new Enum("ARCO", INT_ARCO),
+                new Enum("ARCT", INT_ARCT),
+                new Enum("AREC", INT_AREC),
+                new Enum("ARGG", INT_ARGG),
+                new Enum("ARGO", INT_ARGO),
+                new Enum("ARGS", INT_ARGS),
+                new Enum("ARIC", INT_ARIC),
+                new Enum("ARIE", INT_ARIE),
+                new Enum("ARII", INT_ARII),
+                new Enum("ARIN", INT_ARIN),
+                new Enum("ARIS", INT_ARIS),
+                new Enum("ARIT", INT_ARIT),
+                new Enum("ARLB", INT_ARLB),
+                new Enum("ARMA", INT_ARMA),
+                new Enum("ARMC", INT_ARMC),
+                new Enum("ARMH", INT_ARMH),
+                new Enum("ARMO", INT_ARMO),
+                new Enum("ARMR", INT_ARMR),
+                new Enum("ARMS", INT_ARMS),
+                new Enum("ARMT", INT_ARMT),
+                new Enum("ARND", INT_ARND),
+                new Enum("ARNO", INT_ARNO),
+                new Enum("ARNT", INT_ARNT),
+                new Enum("AROM", INT_AROM),
+                new Enum("AROS", INT_AROS),
+                new Enum("ARPS", INT_ARPS),
+                new Enum("ARPT", INT_ARPT),
+                new Enum("ARRC", INT_ARRC),
+                new Enum("ARRM", INT_ARRM),
+                new Enum("ARRO", INT_ARRO),
+                new Enum("ARRT", INT_ARRT),
+                new Enum("ARRW", INT_ARRW),
+                new Enum("ARSC", INT_ARSC),
+                new Enum("ARSN", INT_ARSN),
+                new Enum("ARTA", INT_ARTA),
+                new Enum("ARTG", INT_ARTG),
+                new Enum("ARTH", INT_ARTH),
+                new Enum("ARTI", INT_ARTI),
+                new Enum("ARTX", INT_ARTX),
+                new Enum("ASA", INT_ASA),
+                new Enum("ASBU", INT_ASBU),
+                new Enum("ASBY", INT_ASBY),
+                new Enum("ASHD", INT_ASHD),
+                new Enum("ASHL", INT_ASHL),
+                new Enum("ASHT", INT_ASHT),
+                new Enum("ASI", INT_ASI),
+                new Enum("ASIN", INT_ASIN),
+                new Enum("ASM", INT_ASM),
+                new Enum("ASMT", INT_ASMT),
+                new Enum("ASPE", INT_ASPE),
+                new Enum("ASPL", INT_ASPL),
+                new Enum("ASPS", INT_ASPS),
+                new Enum("ASPT", INT_ASPT),
+                new Enum("ASTO", INT_ASTO),
+                new Enum("ASTR", INT_ASTR),
+                new Enum("ASUN", INT_ASUN),
+                new Enum("ASVE", INT_ASVE),
+                new Enum("ATAS", INT_ATAS),
+                new Enum("ATCH", INT_ATCH),
+                new Enum("ATCO", INT_ATCO),
+                new Enum("ATEX", INT_ATEX),
+                new Enum("ATHE", INT_ATHE),
+                new Enum("ATK", INT_ATK),
+                new Enum("ATLA", INT_ATLA),
+                new Enum("ATLC", INT_ATLC),
+                new Enum("ATLD", INT_ATLD),
+                new Enum("ATLN", INT_ATLN),
+                new Enum("ATLS", INT_ATLS),
+                new Enum("ATLT", INT_ATLT),
+                new Enum("ATOC", INT_ATOC),
+                new Enum("ATSP", INT_ATSP),
+                new Enum("ATTC", INT_ATTC),
+                new Enum("ATV", INT_ATV),
+                new Enum("ATWO", INT_ATWO),
+                new Enum("AUBN", INT_AUBN),
+                new Enum("AUBU", INT_AUBU),
+                new Enum("AUDI", INT_AUDI),
+                new Enum("AUG", INT_AUG),
+                new Enum("AUHE", INT_AUHE),
+                new Enum("AUKR", INT_AUKR),
+                new Enum("AUPR", INT_AUPR),
+                new Enum("AURA", INT_AURA),
+                new Enum("AURO", INT_AURO),
+                new Enum("AURR", INT_AURR),
+                new Enum("AUST", INT_AUST),
+                new Enum("AUTA", INT_AUTA),
+                new Enum("AUTB", INT_AUTB),
+                new Enum("AUTH", INT_AUTH),
+                new Enum("AUTI", INT_AUTI),
+                new Enum("AUTM", INT_AUTM),
+                new Enum("AUTO", INT_AUTO),
+                new Enum("AUTR", INT_AUTR),
+                new Enum("AUTS", INT_AUTS),
+                new Enum("AUTT", INT_AUTT),
+                new Enum("AUTU", INT_AUTU),
+                new Enum("AUWE", INT_AUWE),
+                new Enum("AVA", INT_AVA),
+                new Enum("AVAC", INT_AVAC),
+                new Enum("AVAL", INT_AVAL),
+                new Enum("AVAN", INT_AVAN),
+                new Enum("AVAO", INT_AVAO),
+                new Enum("AVCO", INT_AVCO),
+                new Enum("AVEN", INT_AVEN),
+                new Enum("AVGN", INT_AVGN),
+                new Enum("AVIA", INT_AVIA),
+                new Enum("AVIO", INT_AVIO),
+                new Enum("AVTI", INT_AVTI),
+                new Enum("AWAY", INT_AWAY),
+                new Enum("AXLE", INT_AXLE),
+                new Enum("AYRW", INT_AYRW),
+                new Enum("AZAL", INT_AZAL),
+                new Enum("AZMF", INT_AZMF),
+                new Enum("AZTC", INT_AZTC),
+                new Enum("AZTE", INT_AZTE),
+                new Enum("AZTX", INT_AZTX),
+                new Enum("BABC", INT_BABC),
+                new Enum("BACC", INT_BACC),
+                new Enum("BADC", INT_BADC),
+                new Enum("BADE", INT_BADE),
+                new Enum("BADG", INT_BADG),
+                new Enum("BADR", INT_BADR),
+                new Enum("BAIL", INT_BAIL),
+                new Enum("BAIN", INT_BAIN),
+                new Enum("BAJA", INT_BAJA),
+                new Enum("BAKE", INT_BAKE),
+                new Enum("BAKI", INT_BAKI),
+                new Enum("BAKR", INT_BAKR),
+                new Enum("BALB", INT_BALB),
+                new Enum("BALD", INT_BALD),
+                new Enum("BALE", INT_BALE),
+                new Enum("BALI", INT_BALI),
+                new Enum("BALK", INT_BALK),
+                new Enum("BALL", INT_BALL),
+                new Enum("BALT", INT_BALT),
+                new Enum("BALZ", INT_BALZ),
+                new Enum("BAMA", INT_BAMA),
+                new Enum("BAME", INT_BAME),
+                new Enum("BAMH", INT_BAMH),
+                new Enum("BAND", INT_BAND),
+                new Enum("BANH", INT_BANH),
+                new Enum("BANK", INT_BANK),
+                new Enum("BANM", INT_BANM),
+                new Enum("BANN", INT_BANN),
+                new Enum("BANT", INT_BANT),
+                new Enum("BARA", INT_BARA),
+                new Enum("BARB", INT_BARB),
+                new Enum("BARC", INT_BARC),
+                new Enum("BARE", INT_BARE),
+                new Enum("BARH", INT_BARH),
+                new Enum("BARI", INT_BARI),
+                new Enum("BARK", INT_BARK),
+                new Enum("BARL", INT_BARL),
+                new Enum("BARN", INT_BARN),
+                new Enum("BARO", INT_BARO),
+                new Enum("BARR", INT_BARR),
+                new Enum("BART", INT_BART),
+                new Enum("BASS", INT_BASS),
+                new Enum("BATA", INT_BATA),
+                new Enum("BATM", INT_BATM),
+                new Enum("BAUG", INT_BAUG),
+                new Enum("BAY", INT_BAY),
+                new Enum("BAYC", INT_BAYC),
+                new Enum("BBCB", INT_BBCB),
+                new Enum("BBCH", INT_BBCH),
+                new Enum("BBEE", INT_BBEE),
+                new Enum("BBTM", INT_BBTM),
+                new Enum("BBW", INT_BBW),
+                new Enum("BCMW", INT_BCMW),
+                new Enum("BDFL", INT_BDFL),
+                new Enum("BEAC", INT_BEAC),
+                new Enum("BEAD", INT_BEAD),
+                new Enum("BEAE", INT_BEAE),
+                new Enum("BEAI", INT_BEAI),
+                new Enum("BEAL", INT_BEAL),
+                new Enum("BEAM", INT_BEAM),
+                new Enum("BEAN", INT_BEAN),
+                new Enum("BEAR", INT_BEAR),
+                new Enum("BEAT", INT_BEAT),
+                new Enum("BEAV", INT_BEAV),
+                new Enum("BEBE", INT_BEBE),
+                new Enum("BEBO", INT_BEBO),
+                new Enum("BEC", INT_BEC),
+                new Enum("BECK", INT_BECK),
+                new Enum("BEDE", INT_BEDE),
+                new Enum("BEDF", INT_BEDF),
+                new Enum("BEDX", INT_BEDX),
+                new Enum("BEEA", INT_BEEA),
+                new Enum("BEEC", INT_BEEC),
+                new Enum("BEEE", INT_BEEE),
+                new Enum("BEEG", INT_BEEG),
+                new Enum("BEEH", INT_BEEH),
+                new Enum("BEEM", INT_BEEM),
+                new Enum("BEET", INT_BEET),
+                new Enum("BEJE", INT_BEJE),
+                new Enum("BELA", INT_BELA),
+                new Enum("BELE", INT_BELE),
+                new Enum("BELF", INT_BELF),
+                new Enum("BELH", INT_BELH),
+                new Enum("BELL", INT_BELL),
+                new Enum("BELN", INT_BELN),
+                new Enum("BELP", INT_BELP),
+                new Enum("BELR", INT_BELR),
+                new Enum("BELS", INT_BELS),
+                new Enum("BELT", INT_BELT),
+                new Enum("BELU", INT_BELU),
+                new Enum("BELV", INT_BELV),
+                new Enum("BENE", INT_BENE),
+                new Enum("BENL", INT_BENL),
+                new Enum("BENS", INT_BENS),
+                new Enum("BENT", INT_BENT),
+                new Enum("BEPO", INT_BEPO),
+                new Enum("BERE", INT_BERE),
+                new Enum("BERG", INT_BERG),
+                new Enum("BERH", INT_BERH),
+                new Enum("BERK", INT_BERK),
+                new Enum("BERM", INT_BERM),
+                new Enum("BERO", INT_BERO),
+                new Enum("BERR", INT_BERR),
+                new Enum("BERT", INT_BERT),
+                new Enum("BERV", INT_BERV),
+                new Enum("BESA", INT_BESA),
+                new Enum("BETA", INT_BETA),
+                new Enum("BETE", INT_BETE),
+                new Enum("BETH", INT_BETH),
+                new Enum("BETT", INT_BETT),
+                new Enum("BEVR", INT_BEVR),
+                new Enum("BFOS", INT_BFOS),
+                new Enum("BGDG", INT_BGDG),
+                new Enum("BGHM", INT_BGHM),
+                new Enum("BHNK", INT_BHNK),
+                new Enum("BIAN", INT_BIAN),
+                new Enum("BIBB", INT_BIBB),
+                new Enum("BIEW", INT_BIEW),
+                new Enum("BIGB", INT_BIGB),
+                new Enum("BIGH", INT_BIGH),
+                new Enum("BIGI", INT_BIGI),
+                new Enum("BIGJ", INT_BIGJ),
+                new Enum("BIGT", INT_BIGT),
+                new Enum("BIGV", INT_BIGV),
+                new Enum("BILE", INT_BILE),
+                new Enum("BILK", INT_BILK),
+                new Enum("BILL", INT_BILL),
+                new Enum("BILR", INT_BILR),
+                new Enum("BILT", INT_BILT),
+                new Enum("BIMO", INT_BIMO),
+                new Enum("BINK", INT_BINK),
+                new Enum("BINS", INT_BINS),
+                new Enum("BIOT", INT_BIOT),
+                new Enum("BIRD", INT_BIRD),
+                new Enum("BIRE", INT_BIRE),
+                new Enum("BIRM", INT_BIRM),
+                new Enum("BITT", INT_BITT),
+                new Enum("BIVO", INT_BIVO),
+                new Enum("BIZZ", INT_BIZZ),
+                new Enum("BJAA", INT_BJAA),
+                new Enum("BJCT", INT_BJCT),
+                new Enum("BJEN", INT_BJEN),
+                new Enum("BJMC", INT_BJMC),
+                new Enum("BJMS", INT_BJMS),
+                new Enum("BKDN", INT_BKDN),
+                new Enum("BKHM", INT_BKHM),
+                new Enum("BLAB", INT_BLAB),
+                new Enum("BLAC", INT_BLAC),
+                new Enum("BLAE", INT_BLAE),
+                new Enum("BLAH", INT_BLAH),
+                new Enum("BLAI", INT_BLAI),
+                new Enum("BLAK", INT_BLAK),
+                new Enum("BLAO", INT_BLAO),
+                new Enum("BLAR", INT_BLAR),
+                new Enum("BLAS", INT_BLAS),
+                new Enum("BLAW", INT_BLAW),
+                new Enum("BLAZ", INT_BLAZ),
+                new Enum("BLDC", INT_BLDC),
+                new Enum("BLGA", INT_BLGA),
+                new Enum("BLIN", INT_BLIN),
+                new Enum("BLIT", INT_BLIT),
+                new Enum("BLIX", INT_BLIX),
+                new Enum("BLKE", INT_BLKE),
+                new Enum("BLLV", INT_BLLV),
+                new Enum("BLMT", INT_BLMT),
+                new Enum("BLOM", INT_BLOM),
+                new Enum("BLOO", INT_BLOO),
+                new Enum("BLRG", INT_BLRG),
+                new Enum("BLST", INT_BLST),
+                new Enum("BLTR", INT_BLTR),
+                new Enum("BLUB", INT_BLUB),
+                new Enum("BLUE", INT_BLUE),
+                new Enum("BLUG", INT_BLUG),
+                new Enum("BLUI", INT_BLUI),
+                new Enum("BLUJ", INT_BLUJ),
+                new Enum("BMBM", INT_BMBM),
+                new Enum("BMBR", INT_BMBR),
+                new Enum("BMC", INT_BMC),
+                new Enum("BMMF", INT_BMMF),
+                new Enum("BMTR", INT_BMTR),
+                new Enum("BMW", INT_BMW),
+                new Enum("BNDR", INT_BNDR),
+                new Enum("BNDT", INT_BNDT),
+                new Enum("BNHR", INT_BNHR),
+                new Enum("BNST", INT_BNST),
+                new Enum("BNTM", INT_BNTM),
+                new Enum("BNZA", INT_BNZA),
+                new Enum("BOAN", INT_BOAN),
+                new Enum("BOAR", INT_BOAR),
+                new Enum("BOAS", INT_BOAS),
+                new Enum("BOAT", INT_BOAT),
+                new Enum("BOB", INT_BOB),
+                new Enum("BOBB", INT_BOBB),
+                new Enum("BOBC", INT_BOBC),
+                new Enum("BOBK", INT_BOBK),
+                new Enum("BOBM", INT_BOBM),
+                new Enum("BOCA", INT_BOCA),
+                new Enum("BOCE", INT_BOCE),
+                new Enum("BOCK", INT_BOCK),
+                new Enum("BOCS", INT_BOCS),
+                new Enum("BOER", INT_BOER),
+                new Enum("BOIS", INT_BOIS),
+                new Enum("BOLA", INT_BOLA),
+                new Enum("BOLG", INT_BOLG),
+                new Enum("BOMA", INT_BOMA),
+                new Enum("BOMB", INT_BOMB),
+                new Enum("BOMF", INT_BOMF),
+                new Enum("BOMG", INT_BOMG),
+                new Enum("BONA", INT_BONA),
+                new Enum("BONC", INT_BONC),
+                new Enum("BOND", INT_BOND),
+                new Enum("BONE", INT_BONE),
+                new Enum("BONI", INT_BONI),
+                new Enum("BOON", INT_BOON),
+                new Enum("BORC", INT_BORC),
+                new Enum("BORF", INT_BORF),
+                new Enum("BORG", INT_BORG),
+                new Enum("BOSS", INT_BOSS),
+                new Enum("BOTL", INT_BOTL),
+                new Enum("BOUL", INT_BOUL),
+                new Enum("BOWE", INT_BOWE),
+                new Enum("BOWI", INT_BOWI),
+                new Enum("BOWM", INT_BOWM),
+                new Enum("BOWN", INT_BOWN),
+                new Enum("BOWS", INT_BOWS),
+                new Enum("BOXR", INT_BOXR),
+                new Enum("BOYD", INT_BOYD),
+                new Enum("BOYR", INT_BOYR),
+                new Enum("BRAC", INT_BRAC),
+                new Enum("BRAD", INT_BRAD),
+                new Enum("BRAF", INT_BRAF),
+                new Enum("BRAL", INT_BRAL),
+                new Enum("BRAN", INT_BRAN),
+                new Enum("BRAS", INT_BRAS),
+                new Enum("BRAT", INT_BRAT),
+                new Enum("BRAU", INT_BRAU),
+                new Enum("BRAV", INT_BRAV),
+                new Enum("BRAW", INT_BRAW),
+                new Enum("BRAY", INT_BRAY),
+                new Enum("BRCO", INT_BRCO),
+                new Enum("BRCT", INT_BRCT),
+                new Enum("BRCV", INT_BRCV),
+                new Enum("BRDC", INT_BRDC),
+                new Enum("BRDK", INT_BRDK),
+                new Enum("BRDL", INT_BRDL),
+                new Enum("BRDR", INT_BRDR),
+                new Enum("BREE", INT_BREE),
+                new Enum("BREI", INT_BREI),
+                new Enum("BREK", INT_BREK),
+                new Enum("BREM", INT_BREM),
+                new Enum("BREN", INT_BREN),
+                new Enum("BRET", INT_BRET),
+                new Enum("BREW", INT_BREW),
+                new Enum("BREZ", INT_BREZ),
+                new Enum("BRGS", INT_BRGS),
+                new Enum("BRIC", INT_BRIC),
+                new Enum("BRID", INT_BRID),
+                new Enum("BRIE", INT_BRIE),
+                new Enum("BRIG", INT_BRIG),
+                new Enum("BRIH", INT_BRIH),
+                new Enum("BRIL", INT_BRIL),
+                new Enum("BRIO", INT_BRIO),
+                new Enum("BRIS", INT_BRIS),
+                new Enum("BRIT", INT_BRIT),
+                new Enum("BRKW", INT_BRKW),
+                new Enum("BRLL", INT_BRLL),
+                new Enum("BRMR", INT_BRMR),
+                new Enum("BRND", INT_BRND),
+                new Enum("BRNG", INT_BRNG),
+                new Enum("BROA", INT_BROA),
+                new Enum("BROB", INT_BROB),
+                new Enum("BROC", INT_BROC),
+                new Enum("BROD", INT_BROD),
+                new Enum("BROE", INT_BROE),
+                new Enum("BROH", INT_BROH),
+                new Enum("BROK", INT_BROK),
+                new Enum("BRON", INT_BRON),
+                new Enum("BROO", INT_BROO),
+                new Enum("BROR", INT_BROR),
+                new Enum("BROS", INT_BROS),
+                new Enum("BROT", INT_BROT),
+                new Enum("BROU", INT_BROU),
+                new Enum("BROW", INT_BROW),
+                new Enum("BROY", INT_BROY),
+                new Enum("BRRO", INT_BRRO),
+                new Enum("BRSH", INT_BRSH),
+                new Enum("BRST", INT_BRST),
+                new Enum("BRTE", INT_BRTE),
+                new Enum("BRTI", INT_BRTI),
+                new Enum("BRTO", INT_BRTO),
+                new Enum("BRTR", INT_BRTR),
+                new Enum("BRTT", INT_BRTT),
+                new Enum("BRUN", INT_BRUN),
+                new Enum("BRUT", INT_BRUT),
+                new Enum("BRUZ", INT_BRUZ),
+                new Enum("BRWD", INT_BRWD),
+                new Enum("BRWN", INT_BRWN),
+                new Enum("BSA", INT_BSA),
+                new Enum("BSB", INT_BSB),
+                new Enum("BTEC", INT_BTEC),
+                new Enum("BTVS", INT_BTVS),
+                new Enum("BUCC", INT_BUCC),
+                new Enum("BUCI", INT_BUCI),
+                new Enum("BUCK", INT_BUCK),
+                new Enum("BUCM", INT_BUCM),
+                new Enum("BUCN", INT_BUCN),
+                new Enum("BUCO", INT_BUCO),
+                new Enum("BUCS", INT_BUCS),
+                new Enum("BUCY", INT_BUCY),
+                new Enum("BUDC", INT_BUDC),
+                new Enum("BUDD", INT_BUDD),
+                new Enum("BUDG", INT_BUDG),
+                new Enum("BUDR", INT_BUDR),
+                new Enum("BUDS", INT_BUDS),
+                new Enum("BUEL", INT_BUEL),
+                new Enum("BUFF", INT_BUFF),
+                new Enum("BUG", INT_BUG),
+                new Enum("BUGA", INT_BUGA),
+                new Enum("BUHL", INT_BUHL),
+                new Enum("BUIC", INT_BUIC),
+                new Enum("BUIL", INT_BUIL),
+                new Enum("BULK", INT_BULK),
+                new Enum("BULL", INT_BULL),
+                new Enum("BULM", INT_BULM),
+                new Enum("BULT", INT_BULT),
+                new Enum("BUNT", INT_BUNT),
+                new Enum("BUNY", INT_BUNY),
+                new Enum("BURC", INT_BURC),
+                new Enum("BURE", INT_BURE),
+                new Enum("BURK", INT_BURK),
+                new Enum("BURL", INT_BURL),
+                new Enum("BURN", INT_BURN),
+                new Enum("BURO", INT_BURO),
+                new Enum("BURR", INT_BURR),
+                new Enum("BUSH", INT_BUSH),
+                new Enum("BUSO", INT_BUSO),
+                new Enum("BUSP", INT_BUSP),
+                new Enum("BUTE", INT_BUTE),
+                new Enum("BUTL", INT_BUTL),
+                new Enum("BUTT", INT_BUTT),
+                new Enum("BVCR", INT_BVCR),
+                new Enum("BWAY", INT_BWAY),
+                new Enum("BWHO", INT_BWHO),
+                new Enum("BYER", INT_BYER),
+                new Enum("BYMW", INT_BYMW),
+                new Enum("BYOR", INT_BYOR),
+                new Enum("BYRM", INT_BYRM),
+                new Enum("BYRS", INT_BYRS),
+                new Enum("BYSN", INT_BYSN),
+                new Enum("BZEL", INT_BZEL),
+                new Enum("CAAR", INT_CAAR),
+                new Enum("CABA", INT_CABA),
+                new Enum("CABK", INT_CABK),
+                new Enum("CACA", INT_CACA),
+                new Enum("CACR", INT_CACR),
+                new Enum("CACV", INT_CACV),
+                new Enum("CACY", INT_CACY),
+                new Enum("CADE", INT_CADE),
+                new Enum("CADF", INT_CADF),
+                new Enum("CADI", INT_CADI),
+                new Enum("CAFF", INT_CAFF),
+                new Enum("CAGI", INT_CAGI),
+                new Enum("CAHA", INT_CAHA),
+                new Enum("CALC", INT_CALC),
+                new Enum("CALD", INT_CALD),
+                new Enum("CALF", INT_CALF),
+                new Enum("CALH", INT_CALH),
+                new Enum("CALI", INT_CALI),
+                new Enum("CALK", INT_CALK),
+                new Enum("CALL", INT_CALL),
+                new Enum("CALM", INT_CALM),
+                new Enum("CALN", INT_CALN),
+                new Enum("CALO", INT_CALO),
+                new Enum("CALS", INT_CALS),
+                new Enum("CALT", INT_CALT),
+                new Enum("CALU", INT_CALU),
+                new Enum("CALW", INT_CALW),
+                new Enum("CALY", INT_CALY),
+                new Enum("CAMA", INT_CAMA),
+                new Enum("CAMB", INT_CAMB),
+                new Enum("CAMC", INT_CAMC),
+                new Enum("CAMD", INT_CAMD),
+                new Enum("CAME", INT_CAME),
+                new Enum("CAMF", INT_CAMF),
+                new Enum("CAMI", INT_CAMI),
+                new Enum("CAML", INT_CAML),
+                new Enum("CAMM", INT_CAMM),
+                new Enum("CAMO", INT_CAMO),
+                new Enum("CAMP", INT_CAMP),
+                new Enum("CAMR", INT_CAMR),
+                new Enum("CAMS", INT_CAMS),
+                new Enum("CAMT", INT_CAMT),
+                new Enum("CAMU", INT_CAMU),
+                new Enum("CAMV", INT_CAMV),
+                new Enum("CAMY", INT_CAMY),
+                new Enum("CANA", INT_CANA),
+                new Enum("CANC", INT_CANC),
+                new Enum("CAND", INT_CAND),
+                new Enum("CANE", INT_CANE),
+                new Enum("CANG", INT_CANG),
+                new Enum("CANN", INT_CANN),
+                new Enum("CANO", INT_CANO),
+                new Enum("CANS", INT_CANS),
+                new Enum("CANT", INT_CANT),
+                new Enum("CAP", INT_CAP),
+                new Enum("CAPA", INT_CAPA),
+                new Enum("CAPC", INT_CAPC),
+                new Enum("CAPE", INT_CAPE),
+                new Enum("CAPH", INT_CAPH),
+                new Enum("CAPI", INT_CAPI),
+                new Enum("CAPL", INT_CAPL),
+                new Enum("CAPM", INT_CAPM),
+                new Enum("CAPR", INT_CAPR),
+                new Enum("CAPT", INT_CAPT),
+                new Enum("CARA", INT_CARA),
+                new Enum("CARB", INT_CARB),
+                new Enum("CARC", INT_CARC),
+                new Enum("CARD", INT_CARD),
+                new Enum("CARE", INT_CARE),
+                new Enum("CARF", INT_CARF),
+                new Enum("CARG", INT_CARG),
+                new Enum("CARH", INT_CARH),
+                new Enum("CARI", INT_CARI),
+                new Enum("CARK", INT_CARK),
+                new Enum("CARL", INT_CARL),
+                new Enum("CARM", INT_CARM),
+                new Enum("CARN", INT_CARN),
+                new Enum("CARO", INT_CARO),
+                new Enum("CARP", INT_CARP),
+                new Enum("CARR", INT_CARR),
+                new Enum("CARS", INT_CARS),
+                new Enum("CART", INT_CART),
+                new Enum("CARW", INT_CARW),
+                new Enum("CARY", INT_CARY),
+                new Enum("CASA", INT_CASA),
+                new Enum("CASC", INT_CASC),
+                new Enum("CASE", INT_CASE),
+                new Enum("CASH", INT_CASH),
+                new Enum("CASL", INT_CASL),
+                new Enum("CASR", INT_CASR),
+                new Enum("CAST", INT_CAST),
+                new Enum("CAT", INT_CAT),
+                new Enum("CATA", INT_CATA),
+                new Enum("CATI", INT_CATI),
+                new Enum("CATL", INT_CATL),
+                new Enum("CATM", INT_CATM),
+                new Enum("CATO", INT_CATO),
+                new Enum("CAUL", INT_CAUL),
+                new Enum("CAVA", INT_CAVA),
+                new Enum("CAVC", INT_CAVC),
+                new Enum("CAVE", INT_CAVE),
+                new Enum("CAVL", INT_CAVL),
+                new Enum("CBCM", INT_CBCM),
+                new Enum("CBMA", INT_CBMA),
+                new Enum("CBRA", INT_CBRA),
+                new Enum("CBRO", INT_CBRO),
+                new Enum("CBTL", INT_CBTL),
+                new Enum("CBUT", INT_CBUT),
+                new Enum("CCC", INT_CCC),
+                new Enum("CCCY", INT_CCCY),
+                new Enum("CCDI", INT_CCDI),
+                new Enum("CCMF", INT_CCMF),
+                new Enum("CCMH", INT_CCMH),
+                new Enum("CCTI", INT_CCTI),
+                new Enum("CEEZ", INT_CEEZ),
+                new Enum("CEIQ", INT_CEIQ),
+                new Enum("CENA", INT_CENA),
+                new Enum("CENI", INT_CENI),
+                new Enum("CENR", INT_CENR),
+                new Enum("CENT", INT_CENT),
+                new Enum("CENU", INT_CENU),
+                new Enum("CENY", INT_CENY),
+                new Enum("CERT", INT_CERT),
+                new Enum("CEVA", INT_CEVA),
+                new Enum("CEZE", INT_CEZE),
+                new Enum("CFBT", INT_CFBT),
+                new Enum("CFCH", INT_CFCH),
+                new Enum("CGMT", INT_CGMT),
+                new Enum("CGXP", INT_CGXP),
+                new Enum("CHAC", INT_CHAC),
+                new Enum("CHAE", INT_CHAE),
+                new Enum("CHAG", INT_CHAG),
+                new Enum("CHAH", INT_CHAH),
+                new Enum("CHAI", INT_CHAI),
+                new Enum("CHAL", INT_CHAL),
+                new Enum("CHAM", INT_CHAM),
+                new Enum("CHAP", INT_CHAP),
+                new Enum("CHAR", INT_CHAR),
+                new Enum("CHAT", INT_CHAT),
+                new Enum("CHAU", INT_CHAU),
+                new Enum("CHCI", INT_CHCI),
+                new Enum("CHCO", INT_CHCO),
+                new Enum("CHEC", INT_CHEC),
+                new Enum("CHEE", INT_CHEE),
+                new Enum("CHEM", INT_CHEM),
+                new Enum("CHEN", INT_CHEN),
+                new Enum("CHEO", INT_CHEO),
+                new Enum("CHEP", INT_CHEP),
+                new Enum("CHER", INT_CHER),
+                new Enum("CHES", INT_CHES),
+                new Enum("CHET", INT_CHET),
+                new Enum("CHEV", INT_CHEV),
+                new Enum("CHEX", INT_CHEX),
+                new Enum("CHFB", INT_CHFB),
+                new Enum("CHIA", INT_CHIA),
+                new Enum("CHIB", INT_CHIB),
+                new Enum("CHIC", INT_CHIC),
+                new Enum("CHIE", INT_CHIE),
+                new Enum("CHII", INT_CHII),
+                new Enum("CHIL", INT_CHIL),
+                new Enum("CHIM", INT_CHIM),
+                new Enum("CHIN", INT_CHIN),
+                new Enum("CHIP", INT_CHIP),
+                new Enum("CHIS", INT_CHIS),
+                new Enum("CHKE", INT_CHKE),
+                new Enum("CHKG", INT_CHKG),
+                new Enum("CHLG", INT_CHLG),
+                new Enum("CHLY", INT_CHLY),
+                new Enum("CHMC", INT_CHMC),
+                new Enum("CHMP", INT_CHMP),
+                new Enum("CHNO", INT_CHNO),
+                new Enum("CHOC", INT_CHOC),
+                new Enum("CHPL", INT_CHPL),
+                new Enum("CHPM", INT_CHPM),
+                new Enum("CHPN", INT_CHPN),
+                new Enum("CHPR", INT_CHPR),
+                new Enum("CHPT", INT_CHPT),
+                new Enum("CHRI", INT_CHRI),
+                new Enum("CHRO", INT_CHRO),
+                new Enum("CHRS", INT_CHRS),
+                new Enum("CHRV", INT_CHRV),
+                new Enum("CHRY", INT_CHRY),
+                new Enum("CHTH", INT_CHTH),
+                new Enum("CHTM", INT_CHTM),
+                new Enum("CHUC", INT_CHUC),
+                new Enum("CHUK", INT_CHUK),
+                new Enum("CHVL", INT_CHVL),
+                new Enum("CHYI", INT_CHYI),
+                new Enum("CICC", INT_CICC),
+                new Enum("CIMA", INT_CIMA),
+                new Enum("CIMC", INT_CIMC),
+                new Enum("CIMR", INT_CIMR),
+                new Enum("CIRC", INT_CIRC),
+                new Enum("CIRD", INT_CIRD),
+                new Enum("CIRH", INT_CIRH),
+                new Enum("CIRK", INT_CIRK),
+                new Enum("CIRM", INT_CIRM),
+                new Enum("CIRV", INT_CIRV),
+                new Enum("CISI", INT_CISI),
+                new Enum("CITA", INT_CITA),
+                new Enum("CITI", INT_CITI),
+                new Enum("CITR", INT_CITR),
+                new Enum("CITY", INT_CITY),
+                new Enum("CIWE", INT_CIWE),
+                new Enum("CJGC", INT_CJGC),
+                new Enum("CLAA", INT_CLAA),
+                new Enum("CLAB", INT_CLAB),
+                new Enum("CLAC", INT_CLAC),
+                new Enum("CLAI", INT_CLAI),
+                new Enum("CLAM", INT_CLAM),
+                new Enum("CLAN", INT_CLAN),
+                new Enum("CLAR", INT_CLAR),
+                new Enum("CLAS", INT_CLAS),
+                new Enum("CLAT", INT_CLAT),
+                new Enum("CLAX", INT_CLAX),
+                new Enum("CLAY", INT_CLAY),
+                new Enum("CLAZ", INT_CLAZ),
+                new Enum("CLBR", INT_CLBR),
+                new Enum("CLCO", INT_CLCO),
+                new Enum("CLEA", INT_CLEA),
+                new Enum("CLEG", INT_CLEG),
+                new Enum("CLEM", INT_CLEM),
+                new Enum("CLEN", INT_CLEN),
+                new Enum("CLEV", INT_CLEV),
+                new Enum("CLIF", INT_CLIF),
+                new Enum("CLIH", INT_CLIH),
+                new Enum("CLIN", INT_CLIN),
+                new Enum("CLIP", INT_CLIP),
+                new Enum("CLIT", INT_CLIT),
+                new Enum("CLMB", INT_CLMB),
+                new Enum("CLMC", INT_CLMC),
+                new Enum("CLMN", INT_CLMN),
+                new Enum("CLON", INT_CLON),
+                new Enum("CLOU", INT_CLOU),
+                new Enum("CLSS", INT_CLSS),
+                new Enum("CLST", INT_CLST),
+                new Enum("CLUA", INT_CLUA),
+                new Enum("CLUM", INT_CLUM),
+                new Enum("CLVA", INT_CLVA),
+                new Enum("CLVR", INT_CLVR),
+                new Enum("CLWX", INT_CLWX),
+                new Enum("CLYP", INT_CLYP),
+                new Enum("CMAC", INT_CMAC),
+                new Enum("CMBL", INT_CMBL),
+                new Enum("CMCC", INT_CMCC),
+                new Enum("CMCI", INT_CMCI),
+                new Enum("CMCO", INT_CMCO),
+                new Enum("CMCW", INT_CMCW),
+                new Enum("CMEO", INT_CMEO),
+                new Enum("CMFB", INT_CMFB),
+                new Enum("CMIC", INT_CMIC),
+                new Enum("CMIL", INT_CMIL),
+                new Enum("CMMS", INT_CMMS),
+                new Enum("CMOR", INT_CMOR),
+                new Enum("CMPF", INT_CMPF),
+                new Enum("CMPG", INT_CMPG),
+                new Enum("CMPS", INT_CMPS),
+                new Enum("CMPT", INT_CMPT),
+                new Enum("CMSU", INT_CMSU),
+                new Enum("CMWC", INT_CMWC),
+                new Enum("CNLS", INT_CNLS),
+                new Enum("CNMI", INT_CNMI),
+                new Enum("CNRD", INT_CNRD),
+                new Enum("CNRY", INT_CNRY),
+                new Enum("CNST", INT_CNST),
+                new Enum("CNTL", INT_CNTL),
+                new Enum("CNTR", INT_CNTR),
+                new Enum("CNWD", INT_CNWD),
+                new Enum("COAC", INT_COAC),
+                new Enum("COAH", INT_COAH),
+                new Enum("COAI", INT_COAI),
+                new Enum("COAM", INT_COAM),
+                new Enum("COAS", INT_COAS),
+                new Enum("COBM", INT_COBM),
+                new Enum("COBR", INT_COBR),
+                new Enum("COBU", INT_COBU),
+                new Enum("COCF", INT_COCF),
+                new Enum("COCH", INT_COCH),
+                new Enum("COCL", INT_COCL),
+                new Enum("COCO", INT_COCO),
+                new Enum("COCP", INT_COCP),
+                new Enum("CODY", INT_CODY),
+                new Enum("COEQ", INT_COEQ),
+                new Enum("COLB", INT_COLB),
+                new Enum("COLE", INT_COLE),
+                new Enum("COLF", INT_COLF),
+                new Enum("COLG", INT_COLG),
+                new Enum("COLL", INT_COLL),
+                new Enum("COLM", INT_COLM),
+                new Enum("COLO", INT_COLO),
+                new Enum("COLP", INT_COLP),
+                new Enum("COLS", INT_COLS),
+                new Enum("COLT", INT_COLT),
+                new Enum("COLU", INT_COLU),
+                new Enum("COMA", INT_COMA),
+                new Enum("COMC", INT_COMC),
+                new Enum("COMD", INT_COMD),
+                new Enum("COME", INT_COME),
+                new Enum("COMI", INT_COMI),
+                new Enum("COML", INT_COML),
+                new Enum("COMM", INT_COMM),
+                new Enum("COMN", INT_COMN),
+                new Enum("COMO", INT_COMO),
+                new Enum("COMP", INT_COMP),
+                new Enum("COMR", INT_COMR),
+                new Enum("COMT", INT_COMT),
+                new Enum("COMU", INT_COMU),
+                new Enum("COMV", INT_COMV),
+                new Enum("COMY", INT_COMY),
+                new Enum("CONC", INT_CONC),
+                new Enum("COND", INT_COND),
+                new Enum("CONE", INT_CONE),
+                new Enum("CONF", INT_CONF),
+                new Enum("CONG", INT_CONG),
+                new Enum("CONH", INT_CONH),
+                new Enum("CONI", INT_CONI),
+                new Enum("CONL", INT_CONL),
+                new Enum("CONM", INT_CONM),
+                new Enum("CONN", INT_CONN),
+                new Enum("CONO", INT_CONO),
+                new Enum("CONP", INT_CONP),
+                new Enum("CONR", INT_CONR),
+                new Enum("CONS", INT_CONS),
+                new Enum("CONT", INT_CONT),
+                new Enum("CONU", INT_CONU),
+                new Enum("CONV", INT_CONV),
+                new Enum("CONW", INT_CONW),
+                new Enum("CONX", INT_CONX),
+                new Enum("CONY", INT_CONY),
+                new Enum("CONZ", INT_CONZ),
+                new Enum("COOE", INT_COOE),
+                new Enum("COOK", INT_COOK),
+                new Enum("COON", INT_COON),
+                new Enum("COOP", INT_COOP),
+                new Enum("COOS", INT_COOS),
+                new Enum("COPA", INT_COPA),
+                new Enum("COPC", INT_COPC),
+                new Enum("COPP", INT_COPP),
+                new Enum("CORB", INT_CORB),
+                new Enum("CORD", INT_CORD),
+                new Enum("CORG", INT_CORG),
+                new Enum("CORN", INT_CORN),
+                new Enum("CORO", INT_CORO),
+                new Enum("CORR", INT_CORR),
+                new Enum("CORS", INT_CORS),
+                new Enum("CORT", INT_CORT),
+                new Enum("CORV", INT_CORV),
+                new Enum("CORY", INT_CORY),
+                new Enum("COSM", INT_COSM),
+                new Enum("COSU", INT_COSU),
+                new Enum("COT", INT_COT),
+                new Enum("COTC", INT_COTC),
+                new Enum("COTN", INT_COTN),
+                new Enum("COTT", INT_COTT),
+                new Enum("COTZ", INT_COTZ),
+                new Enum("COUA", INT_COUA),
+                new Enum("COUB", INT_COUB),
+                new Enum("COUI", INT_COUI),
+                new Enum("COUN", INT_COUN),
+                new Enum("COUR", INT_COUR),
+                new Enum("COVE", INT_COVE),
+                new Enum("COWM", INT_COWM),
+                new Enum("COWY", INT_COWY),
+                new Enum("COXS", INT_COXS),
+                new Enum("COYN", INT_COYN),
+                new Enum("COYO", INT_COYO),
+                new Enum("COZA", INT_COZA),
+                new Enum("CPNK", INT_CPNK),
+                new Enum("CPPR", INT_CPPR),
+                new Enum("CPTC", INT_CPTC),
+                new Enum("CPTN", INT_CPTN),
+                new Enum("CPTV", INT_CPTV),
+                new Enum("CRAF", INT_CRAF),
+                new Enum("CRAM", INT_CRAM),
+                new Enum("CRAN", INT_CRAN),
+                new Enum("CRAW", INT_CRAW),
+                new Enum("CRCF", INT_CRCF),
+                new Enum("CRCN", INT_CRCN),
+                new Enum("CRCO", INT_CRCO),
+                new Enum("CREE", INT_CREE),
+                new Enum("CREL", INT_CREL),
+                new Enum("CREO", INT_CREO),
+                new Enum("CREQ", INT_CREQ),
+                new Enum("CRET", INT_CRET),
+                new Enum("CREX", INT_CREX),
+                new Enum("CRFI", INT_CRFI),
+                new Enum("CRFT", INT_CRFT),
+                new Enum("CRGK", INT_CRGK),
+                new Enum("CRGO", INT_CRGO),
+                new Enum("CRGP", INT_CRGP),
+                new Enum("CRGR", INT_CRGR),
+                new Enum("CRI", INT_CRI),
+                new Enum("CRIC", INT_CRIC),
+                new Enum("CRIM", INT_CRIM),
+                new Enum("CRIT", INT_CRIT),
+                new Enum("CRKG", INT_CRKG),
+                new Enum("CRLY", INT_CRLY),
+                new Enum("CRMT", INT_CRMT),
+                new Enum("CRNP", INT_CRNP),
+                new Enum("CROE", INT_CROE),
+                new Enum("CROF", INT_CROF),
+                new Enum("CROH", INT_CROH),
+                new Enum("CROI", INT_CROI),
+                new Enum("CRON", INT_CRON),
+                new Enum("CROR", INT_CROR),
+                new Enum("CROS", INT_CROS),
+                new Enum("CROT", INT_CROT),
+                new Enum("CROW", INT_CROW),
+                new Enum("CRPT", INT_CRPT),
+                new Enum("CRRN", INT_CRRN),
+                new Enum("CRST", INT_CRST),
+                new Enum("CRUI", INT_CRUI),
+                new Enum("CRUM", INT_CRUM),
+                new Enum("CRVM", INT_CRVM),
+                new Enum("CRWE", INT_CRWE),
+                new Enum("CRYS", INT_CRYS),
+                new Enum("CSHM", INT_CSHM),
+                new Enum("CSMC", INT_CSMC),
+                new Enum("CSMM", INT_CSMM),
+                new Enum("CSTL", INT_CSTL),
+                new Enum("CSTM", INT_CSTM),
+                new Enum("CSTW", INT_CSTW),
+                new Enum("CTEC", INT_CTEC),
+                new Enum("CTRC", INT_CTRC),
+                new Enum("CTRI", INT_CTRI),
+                new Enum("CTSI", INT_CTSI),
+                new Enum("CTTM", INT_CTTM),
+                new Enum("CUAP", INT_CUAP),
+                new Enum("CUAS", INT_CUAS),
+                new Enum("CUBC", INT_CUBC),
+                new Enum("CUBS", INT_CUBS),
+                new Enum("CUKE", INT_CUKE),
+                new Enum("CUKH", INT_CUKH),
+                new Enum("CULL", INT_CULL),
+                new Enum("CULN", INT_CULN),
+                new Enum("CULP", INT_CULP),
+                new Enum("CUMB", INT_CUMB),
+                new Enum("CUNN", INT_CUNN),
+                new Enum("CURB", INT_CURB),
+                new Enum("CURR", INT_CURR),
+                new Enum("CURT", INT_CURT),
+                new Enum("CUSA", INT_CUSA),
+                new Enum("CUSB", INT_CUSB),
+                new Enum("CUSC", INT_CUSC),
+                new Enum("CUSE", INT_CUSE),
+                new Enum("CUSF", INT_CUSF),
+                new Enum("CUSH", INT_CUSH),
+                new Enum("CUSI", INT_CUSI),
+                new Enum("CUSL", INT_CUSL),
+                new Enum("CUSM", INT_CUSM),
+                new Enum("CUSO", INT_CUSO),
+                new Enum("CUST", INT_CUST),
+                new Enum("CUTU", INT_CUTU),
+                new Enum("CUYL", INT_CUYL),
+                new Enum("CVLO", INT_CVLO),
+                new Enum("CVWE", INT_CVWE),
+                new Enum("CWCF", INT_CWCF),
+                new Enum("CWPC", INT_CWPC),
+                new Enum("CWTR", INT_CWTR),
+                new Enum("CYCK", INT_CYCK),
+                new Enum("CYCL", INT_CYCL),
+                new Enum("CYSC", INT_CYSC),
+                new Enum("CZ", INT_CZ),
+                new Enum("DABR", INT_DABR),
+                new Enum("DACO", INT_DACO),
+                new Enum("DAEW", INT_DAEW),
+                new Enum("DAF", INT_DAF),
+                new Enum("DAFF", INT_DAFF),
+                new Enum("DAIH", INT_DAIH),
+                new Enum("DAIM", INT_DAIM),
+                new Enum("DAIN", INT_DAIN),
+                new Enum("DAIR", INT_DAIR),
+                new Enum("DAKO", INT_DAKO),
+                new Enum("DALE", INT_DALE),
+                new Enum("DALI", INT_DALI),
+                new Enum("DALT", INT_DALT),
+                new Enum("DALW", INT_DALW),
+                new Enum("DAMO", INT_DAMO),
+                new Enum("DANA", INT_DANA),
+                new Enum("DANB", INT_DANB),
+                new Enum("DAND", INT_DAND),
+                new Enum("DANT", INT_DANT),
+                new Enum("DANU", INT_DANU),
+                new Enum("DANZ", INT_DANZ),
+                new Enum("DARB", INT_DARB),
+                new Enum("DARC", INT_DARC),
+                new Enum("DARF", INT_DARF),
+                new Enum("DARG", INT_DARG),
+                new Enum("DART", INT_DART),
+                new Enum("DARV", INT_DARV),
+                new Enum("DARW", INT_DARW),
+                new Enum("DATO", INT_DATO),
+                new Enum("DATR", INT_DATR),
+                new Enum("DATS", INT_DATS),
+                new Enum("DAUP", INT_DAUP),
+                new Enum("DAVC", INT_DAVC),
+                new Enum("DAVD", INT_DAVD),
+                new Enum("DAVE", INT_DAVE),
+                new Enum("DAVI", INT_DAVI),
+                new Enum("DAVN", INT_DAVN),
+                new Enum("DAVO", INT_DAVO),
+                new Enum("DAVY", INT_DAVY),
+                new Enum("DAWE", INT_DAWE),
+                new Enum("DAWS", INT_DAWS),
+                new Enum("DAYB", INT_DAYB),
+                new Enum("DAYO", INT_DAYO),
+                new Enum("DAYS", INT_DAYS),
+                new Enum("DAYT", INT_DAYT),
+                new Enum("DAZN", INT_DAZN),
+                new Enum("DB", INT_DB),
+                new Enum("DBDL", INT_DBDL),
+                new Enum("DCCS", INT_DCCS),
+                new Enum("DCNT", INT_DCNT),
+                new Enum("DCTR", INT_DCTR),
+                new Enum("DD", INT_DD),
+                new Enum("DDFB", INT_DDFB),
+                new Enum("DDTI", INT_DDTI),
+                new Enum("DEAL", INT_DEAL),
+                new Enum("DEAN", INT_DEAN),
+                new Enum("DEBO", INT_DEBO),
+                new Enum("DECA", INT_DECA),
+                new Enum("DECO", INT_DECO),
+                new Enum("DEEP", INT_DEEP),
+                new Enum("DEER", INT_DEER),
+                new Enum("DEGE", INT_DEGE),
+                new Enum("DEGL", INT_DEGL),
+                new Enum("DEIC", INT_DEIC),
+                new Enum("DEKC", INT_DEKC),
+                new Enum("DELA", INT_DELA),
+                new Enum("DELH", INT_DELH),
+                new Enum("DELK", INT_DELK),
+                new Enum("DELL", INT_DELL),
+                new Enum("DELM", INT_DELM),
+                new Enum("DELN", INT_DELN),
+                new Enum("DELO", INT_DELO),
+                new Enum("DELP", INT_DELP),
+                new Enum("DELR", INT_DELR),
+                new Enum("DELS", INT_DELS),
+                new Enum("DELT", INT_DELT),
+                new Enum("DELU", INT_DELU),
+                new Enum("DELX", INT_DELX),
+                new Enum("DEMC", INT_DEMC),
+                new Enum("DEMM", INT_DEMM),
+                new Enum("DEMP", INT_DEMP),
+                new Enum("DEMU", INT_DEMU),
+                new Enum("DENC", INT_DENC),
+                new Enum("DENE", INT_DENE),
+                new Enum("DENN", INT_DENN),
+                new Enum("DENZ", INT_DENZ),
+                new Enum("DERB", INT_DERB),
+                new Enum("DERE", INT_DERE),
+                new Enum("DERH", INT_DERH),
+                new Enum("DESA", INT_DESA),
+                new Enum("DESG", INT_DESG),
+                new Enum("DESI", INT_DESI),
+                new Enum("DESO", INT_DESO),
+                new Enum("DESP", INT_DESP),
+                new Enum("DEST", INT_DEST),
+                new Enum("DETE", INT_DETE),
+                new Enum("DETH", INT_DETH),
+                new Enum("DETI", INT_DETI),
+                new Enum("DETO", INT_DETO),
+                new Enum("DEUT", INT_DEUT),
+                new Enum("DEVI", INT_DEVI),
+                new Enum("DEVL", INT_DEVL),
+                new Enum("DEVN", INT_DEVN),
+                new Enum("DEWE", INT_DEWE),
+                new Enum("DEWL", INT_DEWL),
+                new Enum("DIAB", INT_DIAB),
+                new Enum("DIAC", INT_DIAC),
+                new Enum("DIAD", INT_DIAD),
+                new Enum("DIAG", INT_DIAG),
+                new Enum("DIAM", INT_DIAM),
+                new Enum("DIAO", INT_DIAO),
+                new Enum("DIAR", INT_DIAR),
+                new Enum("DIAS", INT_DIAS),
+                new Enum("DIAT", INT_DIAT),
+                new Enum("DICH", INT_DICH),
+                new Enum("DICK", INT_DICK),
+                new Enum("DICO", INT_DICO),
+                new Enum("DIDI", INT_DIDI),
+                new Enum("DIGM", INT_DIGM),
+                new Enum("DILL", INT_DILL),
+                new Enum("DILM", INT_DILM),
+                new Enum("DILO", INT_DILO),
+                new Enum("DILY", INT_DILY),
+                new Enum("DINA", INT_DINA),
+                new Enum("DINL", INT_DINL),
+                new Enum("DIPL", INT_DIPL),
+                new Enum("DISC", INT_DISC),
+                new Enum("DITC", INT_DITC),
+                new Enum("DITE", INT_DITE),
+                new Enum("DITR", INT_DITR),
+                new Enum("DIVA", INT_DIVA),
+                new Enum("DIVC", INT_DIVC),
+                new Enum("DIVE", INT_DIVE),
+                new Enum("DIVO", INT_DIVO),
+                new Enum("DIXE", INT_DIXE),
+                new Enum("DIXI", INT_DIXI),
+                new Enum("DIXO", INT_DIXO),
+                new Enum("DKR", INT_DKR),
+                new Enum("DKW", INT_DKW),
+                new Enum("DLHY", INT_DLHY),
+                new Enum("DLPE", INT_DLPE),
+                new Enum("DLPH", INT_DLPH),
+                new Enum("DM", INT_DM),
+                new Enum("DMHC", INT_DMHC),
+                new Enum("DMI", INT_DMI),
+                new Enum("DMP", INT_DMP),
+                new Enum("DMVE", INT_DMVE),
+                new Enum("DODD", INT_DODD),
+                new Enum("DODE", INT_DODE),
+                new Enum("DODG", INT_DODG),
+                new Enum("DOEP", INT_DOEP),
+                new Enum("DOLA", INT_DOLA),
+                new Enum("DOLI", INT_DOLI),
+                new Enum("DOMI", INT_DOMI),
+                new Enum("DOMO", INT_DOMO),
+                new Enum("DONA", INT_DONA),
+                new Enum("DONG", INT_DONG),
+                new Enum("DONH", INT_DONH),
+                new Enum("DONL", INT_DONL),
+                new Enum("DONM", INT_DONM),
+                new Enum("DONS", INT_DONS),
+                new Enum("DONU", INT_DONU),
+                new Enum("DOO", INT_DOO),
+                new Enum("DOOL", INT_DOOL),
+                new Enum("DOON", INT_DOON),
+                new Enum("DORI", INT_DORI),
+                new Enum("DORS", INT_DORS),
+                new Enum("DORT", INT_DORT),
+                new Enum("DOT", INT_DOT),
+                new Enum("DOUB", INT_DOUB),
+                new Enum("DOUD", INT_DOUD),
+                new Enum("DOUE", INT_DOUE),
+                new Enum("DOUG", INT_DOUG),
+                new Enum("DOUJ", INT_DOUJ),
+                new Enum("DOWE", INT_DOWE),
+                new Enum("DOWH", INT_DOWH),
+                new Enum("DPWC", INT_DPWC),
+                new Enum("DRAG", INT_DRAG),
+                new Enum("DRAK", INT_DRAK),
+                new Enum("DRDN", INT_DRDN),
+                new Enum("DREA", INT_DREA),
+                new Enum("DRES", INT_DRES),
+                new Enum("DRGL", INT_DRGL),
+                new Enum("DRIE", INT_DRIE),
+                new Enum("DRIF", INT_DRIF),
+                new Enum("DRIV", INT_DRIV),
+                new Enum("DRML", INT_DRML),
+                new Enum("DROP", INT_DROP),
+                new Enum("DROT", INT_DROT),
+                new Enum("DRSN", INT_DRSN),
+                new Enum("DRYD", INT_DRYD),
+                new Enum("DSPD", INT_DSPD),
+                new Enum("DSSC", INT_DSSC),
+                new Enum("DSWS", INT_DSWS),
+                new Enum("DTCH", INT_DTCH),
+                new Enum("DTRL", INT_DTRL),
+                new Enum("DTRV", INT_DTRV),
+                new Enum("DUAE", INT_DUAE),
+                new Enum("DUAL", INT_DUAL),
+                new Enum("DUAM", INT_DUAM),
+                new Enum("DUCA", INT_DUCA),
+                new Enum("DUDE", INT_DUDE),
+                new Enum("DUEL", INT_DUEL),
+                new Enum("DUES", INT_DUES),
+                new Enum("DUGA", INT_DUGA),
+                new Enum("DUGO", INT_DUGO),
+                new Enum("DUKE", INT_DUKE),
+                new Enum("DUNB", INT_DUNB),
+                new Enum("DUNH", INT_DUNH),
+                new Enum("DUNL", INT_DUNL),
+                new Enum("DUNR", INT_DUNR),
+                new Enum("DUPA", INT_DUPA),
+                new Enum("DUPL", INT_DUPL),
+                new Enum("DUPX", INT_DUPX),
+                new Enum("DURA", INT_DURA),
+                new Enum("DURB", INT_DURB),
+                new Enum("DURC", INT_DURC),
+                new Enum("DURE", INT_DURE),
+                new Enum("DURI", INT_DURI),
+                new Enum("DURO", INT_DURO),
+                new Enum("DUTC", INT_DUTC),
+                new Enum("DUTE", INT_DUTE),
+                new Enum("DUTT", INT_DUTT),
+                new Enum("DWNS", INT_DWNS),
+                new Enum("DWTE", INT_DWTE),
+                new Enum("DYCY", INT_DYCY),
+                new Enum("DYMC", INT_DYMC),
+                new Enum("DYNA", INT_DYNA),
+                new Enum("DYNC", INT_DYNC),
+                new Enum("DYNM", INT_DYNM),
+                new Enum("DYNS", INT_DYNS),
+                new Enum("DYNW", INT_DYNW),
+                new Enum("DYTC", INT_DYTC),
+                new Enum("EACR", INT_EACR),
+                new Enum("EADU", INT_EADU),
+                new Enum("EAGB", INT_EAGB),
+                new Enum("EAGC", INT_EAGC),
+                new Enum("EAGE", INT_EAGE),
+                new Enum("EAGI", INT_EAGI),
+                new Enum("EAGL", INT_EAGL),
+                new Enum("EALO", INT_EALO),
+                new Enum("EARI", INT_EARI),
+                new Enum("EASE", INT_EASE),
+                new Enum("EASM", INT_EASM),
+                new Enum("EAST", INT_EAST),
+                new Enum("EASU", INT_EASU),
+                new Enum("EASW", INT_EASW),
+                new Enum("EASY", INT_EASY),
+                new Enum("EATN", INT_EATN),
+                new Enum("EATO", INT_EATO),
+                new Enum("EATR", INT_EATR),
+                new Enum("EBON", INT_EBON),
+                new Enum("ECMY", INT_ECMY),
+                new Enum("ECNO", INT_ECNO),
+                new Enum("ECOB", INT_ECOB),
+                new Enum("ECOF", INT_ECOF),
+                new Enum("ECON", INT_ECON),
+                new Enum("ECSA", INT_ECSA),
+                new Enum("ECTA", INT_ECTA),
+                new Enum("EDEY", INT_EDEY),
+                new Enum("EDSE", INT_EDSE),
+                new Enum("EDWA", INT_EDWA),
+                new Enum("EDWN", INT_EDWN),
+                new Enum("EEE", INT_EEE),
+                new Enum("EEZY", INT_EEZY),
+                new Enum("EGIL", INT_EGIL),
+                new Enum("EGLE", INT_EGLE),
+                new Enum("EHMC", INT_EHMC),
+                new Enum("EIDA", INT_EIDA),
+                new Enum("EIDL", INT_EIDL),
+                new Enum("EIGH", INT_EIGH),
+                new Enum("EJAY", INT_EJAY),
+                new Enum("EKCH", INT_EKCH),
+                new Enum("ELCA", INT_ELCA),
+                new Enum("ELCO", INT_ELCO),
+                new Enum("ELCT", INT_ELCT),
+                new Enum("ELCY", INT_ELCY),
+                new Enum("ELDC", INT_ELDC),
+                new Enum("ELDE", INT_ELDE),
+                new Enum("ELDO", INT_ELDO),
+                new Enum("ELEC", INT_ELEC),
+                new Enum("ELET", INT_ELET),
+                new Enum("ELGI", INT_ELGI),
+                new Enum("ELGN", INT_ELGN),
+                new Enum("ELIT", INT_ELIT),
+                new Enum("ELJA", INT_ELJA),
+                new Enum("ELKA", INT_ELKA),
+                new Enum("ELKH", INT_ELKH),
+                new Enum("ELLE", INT_ELLE),
+                new Enum("ELLI", INT_ELLI),
+                new Enum("ELLS", INT_ELLS),
+                new Enum("ELMA", INT_ELMA),
+                new Enum("ELVA", INT_ELVA),
+                new Enum("ELVC", INT_ELVC),
+                new Enum("ELVT", INT_ELVT),
+                new Enum("EMBA", INT_EMBA),
+                new Enum("EMBB", INT_EMBB),
+                new Enum("EMCO", INT_EMCO),
+                new Enum("EMER", INT_EMER),
+                new Enum("EMME", INT_EMME),
+                new Enum("EMML", INT_EMML),
+                new Enum("EMON", INT_EMON),
+                new Enum("EMPC", INT_EMPC),
+                new Enum("EMPG", INT_EMPG),
+                new Enum("EMPI", INT_EMPI),
+                new Enum("EMPL", INT_EMPL),
+                new Enum("EMPR", INT_EMPR),
+                new Enum("EMW", INT_EMW),
+                new Enum("ENCO", INT_ENCO),
+                new Enum("ENCR", INT_ENCR),
+                new Enum("ENER", INT_ENER),
+                new Enum("ENGF", INT_ENGF),
+                new Enum("ENGI", INT_ENGI),
+                new Enum("ENGL", INT_ENGL),
+                new Enum("ENGN", INT_ENGN),
+                new Enum("ENMC", INT_ENMC),
+                new Enum("ENPR", INT_ENPR),
+                new Enum("ENRT", INT_ENRT),
+                new Enum("ENSE", INT_ENSE),
+                new Enum("ENTR", INT_ENTR),
+                new Enum("ENVA", INT_ENVA),
+                new Enum("ENVI", INT_ENVI),
+                new Enum("ENVY", INT_ENVY),
+                new Enum("ENZM", INT_ENZM),
+                new Enum("EQPR", INT_EQPR),
+                new Enum("ERCE", INT_ERCE),
+                new Enum("EREK", INT_EREK),
+                new Enum("ERIC", INT_ERIC),
+                new Enum("ERIE", INT_ERIE),
+                new Enum("ERIG", INT_ERIG),
+                new Enum("ERIN", INT_ERIN),
+                new Enum("ERIS", INT_ERIS),
+                new Enum("ERMC", INT_ERMC),
+                new Enum("ERSK", INT_ERSK),
+                new Enum("ESCA", INT_ESCA),
+                new Enum("ESCC", INT_ESCC),
+                new Enum("ESCO", INT_ESCO),
+                new Enum("ESCP", INT_ESCP),
+                new Enum("ESCT", INT_ESCT),
+                new Enum("ESHL", INT_ESHL),
+                new Enum("ESIX", INT_ESIX),
+                new Enum("ESQU", INT_ESQU),
+                new Enum("ESSE", INT_ESSE),
+                new Enum("ESSI", INT_ESSI),
+                new Enum("ESSK", INT_ESSK),
+                new Enum("ESTA", INT_ESTA),
+                new Enum("ESTE", INT_ESTE),
+                new Enum("ESTM", INT_ESTM),
+                new Enum("ETNY", INT_ETNY),
+                new Enum("ETON", INT_ETON),
+                new Enum("ETXL", INT_ETXL),
+                new Enum("EUCL", INT_EUCL),
+                new Enum("EVAN", INT_EVAN),
+                new Enum("EVAP", INT_EVAP),
+                new Enum("EVAS", INT_EVAS),
+                new Enum("EVEN", INT_EVEN),
+                new Enum("EVER", INT_EVER),
+                new Enum("EVES", INT_EVES),
+                new Enum("EVIN", INT_EVIN),
+                new Enum("EVLT", INT_EVLT),
+                new Enum("EVRY", INT_EVRY),
+                new Enum("EWAL", INT_EWAL),
+                new Enum("EXC", INT_EXC),
+                new Enum("EXCE", INT_EXCE),
+                new Enum("EXCI", INT_EXCI),
+                new Enum("EXCL", INT_EXCL),
+                new Enum("EXCR", INT_EXCR),
+                new Enum("EXCY", INT_EXCY),
+                new Enum("EXEC", INT_EXEC),
+                new Enum("EXEZ", INT_EXEZ),
+                new Enum("EXHE", INT_EXHE),
+                new Enum("EXIS", INT_EXIS),
+                new Enum("EXPD", INT_EXPD),
+                new Enum("EXPL", INT_EXPL),
+                new Enum("EXTL", INT_EXTL),
+                new Enum("EXTO", INT_EXTO),
+                new Enum("EZAC", INT_EZAC),
+                new Enum("EZCK", INT_EZCK),
+                new Enum("EZHA", INT_EZHA),
+                new Enum("EZLD", INT_EZLD),
+                new Enum("EZUT", INT_EZUT),
+                new Enum("EZZY", INT_EZZY),
+                new Enum("FAAL", INT_FAAL),
+                new Enum("FABC", INT_FABC),
+                new Enum("FABO", INT_FABO),
+                new Enum("FACE", INT_FACE),
+                new Enum("FACL", INT_FACL),
+                new Enum("FACT", INT_FACT),
+                new Enum("FAIH", INT_FAIH),
+                new Enum("FAIM", INT_FAIM),
+                new Enum("FAIR", INT_FAIR),
+                new Enum("FALC", INT_FALC),
+                new Enum("FALL", INT_FALL),
+                new Enum("FALM", INT_FALM),
+                new Enum("FALN", INT_FALN),
+                new Enum("FAN", INT_FAN),
+                new Enum("FARG", INT_FARG),
+                new Enum("FARH", INT_FARH),
+                new Enum("FARK", INT_FARK),
+                new Enum("FARM", INT_FARM),
+                new Enum("FARW", INT_FARW),
+                new Enum("FAST", INT_FAST),
+                new Enum("FATC", INT_FATC),
+                new Enum("FAWN", INT_FAWN),
+                new Enum("FAYE", INT_FAYE),
+                new Enum("FECH", INT_FECH),
+                new Enum("FEDE", INT_FEDE),
+                new Enum("FEDL", INT_FEDL),
+                new Enum("FELB", INT_FELB),
+                new Enum("FELD", INT_FELD),
+                new Enum("FELL", INT_FELL),
+                new Enum("FELP", INT_FELP),
+                new Enum("FEMC", INT_FEMC),
+                new Enum("FERE", INT_FERE),
+                new Enum("FERG", INT_FERG),
+                new Enum("FERR", INT_FERR),
+                new Enum("FERT", INT_FERT),
+                new Enum("FEST", INT_FEST),
+                new Enum("FETE", INT_FETE),
+                new Enum("FEYF", INT_FEYF),
+                new Enum("FHL", INT_FHL),
+                new Enum("FHMC", INT_FHMC),
+                new Enum("FIAA", INT_FIAA),
+                new Enum("FIAC", INT_FIAC),
+                new Enum("FIAL", INT_FIAL),
+                new Enum("FIAT", INT_FIAT),
+                new Enum("FIBE", INT_FIBE),
+                new Enum("FIBI", INT_FIBI),
+                new Enum("FIEA", INT_FIEA),
+                new Enum("FIED", INT_FIED),
+                new Enum("FIEL", INT_FIEL),
+                new Enum("FIEM", INT_FIEM),
+                new Enum("FIES", INT_FIES),
+                new Enum("FIFE", INT_FIFE),
+                new Enum("FIGU", INT_FIGU),
+                new Enum("FIKO", INT_FIKO),
+                new Enum("FILK", INT_FILK),
+                new Enum("FINN", INT_FINN),
+                new Enum("FIRB", INT_FIRB),
+                new Enum("FIRE", INT_FIRE),
+                new Enum("FIRS", INT_FIRS),
+                new Enum("FIRT", INT_FIRT),
+                new Enum("FISC", INT_FISC),
+                new Enum("FIST", INT_FIST),
+                new Enum("FIVE", INT_FIVE),
+                new Enum("FIVK", INT_FIVK),
+                new Enum("FLAG", INT_FLAG),
+                new Enum("FLAH", INT_FLAH),
+                new Enum("FLAI", INT_FLAI),
+                new Enum("FLAM", INT_FLAM),
+                new Enum("FLAN", INT_FLAN),
+                new Enum("FLAS", INT_FLAS),
+                new Enum("FLBR", INT_FLBR),
+                new Enum("FLE", INT_FLE),
+                new Enum("FLEA", INT_FLEA),
+                new Enum("FLEE", INT_FLEE),
+                new Enum("FLEI", INT_FLEI),
+                new Enum("FLEM", INT_FLEM),
+                new Enum("FLEN", INT_FLEN),
+                new Enum("FLEO", INT_FLEO),
+                new Enum("FLEX", INT_FLEX),
+                new Enum("FLIN", INT_FLIN),
+                new Enum("FLMG", INT_FLMG),
+                new Enum("FLMR", INT_FLMR),
+                new Enum("FLNG", INT_FLNG),
+                new Enum("FLOA", INT_FLOA),
+                new Enum("FLOD", INT_FLOD),
+                new Enum("FLOE", INT_FLOE),
+                new Enum("FLOI", INT_FLOI),
+                new Enum("FLOR", INT_FLOR),
+                new Enum("FLOT", INT_FLOT),
+                new Enum("FLOW", INT_FLOW),
+                new Enum("FLYI", INT_FLYI),
+                new Enum("FLYL", INT_FLYL),
+                new Enum("FMC", INT_FMC),
+                new Enum("FMSH", INT_FMSH),
+                new Enum("FN", INT_FN),
+                new Enum("FNM", INT_FNM),
+                new Enum("FNTM", INT_FNTM),
+                new Enum("FOLA", INT_FOLA),
+                new Enum("FOML", INT_FOML),
+                new Enum("FOMO", INT_FOMO),
+                new Enum("FONA", INT_FONA),
+                new Enum("FONT", INT_FONT),
+                new Enum("FOOT", INT_FOOT),
+                new Enum("FOR", INT_FOR),
+                new Enum("FORA", INT_FORA),
+                new Enum("FORC", INT_FORC),
+                new Enum("FORD", INT_FORD),
+                new Enum("FORE", INT_FORE),
+                new Enum("FORF", INT_FORF),
+                new Enum("FORG", INT_FORG),
+                new Enum("FORH", INT_FORH),
+                new Enum("FORI", INT_FORI),
+                new Enum("FORL", INT_FORL),
+                new Enum("FORN", INT_FORN),
+                new Enum("FORR", INT_FORR),
+                new Enum("FORS", INT_FORS),
+                new Enum("FORT", INT_FORT),
+                new Enum("FORU", INT_FORU),
+                new Enum("FOSJ", INT_FOSJ),
+                new Enum("FOST", INT_FOST),
+                new Enum("FOTX", INT_FOTX),
+                new Enum("FOUN", INT_FOUN),
+                new Enum("FOUR", INT_FOUR),
+                new Enum("FOUS", INT_FOUS),
+                new Enum("FOUT", INT_FOUT),
+                new Enum("FOUW", INT_FOUW),
+                new Enum("FOWN", INT_FOWN),
+                new Enum("FOX", INT_FOX),
+                new Enum("FOXI", INT_FOXI),
+                new Enum("FRAC", INT_FRAC),
+                new Enum("FRAI", INT_FRAI),
+                new Enum("FRAK", INT_FRAK),
+                new Enum("FRAN", INT_FRAN),
+                new Enum("FRAZ", INT_FRAZ),
+                new Enum("FRBA", INT_FRBA),
+                new Enum("FRCS", INT_FRCS),
+                new Enum("FREA", INT_FREA),
+                new Enum("FRED", INT_FRED),
+                new Enum("FREE", INT_FREE),
+                new Enum("FREF", INT_FREF),
+                new Enum("FREN", INT_FREN),
+                new Enum("FRES", INT_FRES),
+                new Enum("FRHH", INT_FRHH),
+                new Enum("FRHT", INT_FRHT),
+                new Enum("FRIE", INT_FRIE),
+                new Enum("FRIG", INT_FRIG),
+                new Enum("FRIS", INT_FRIS),
+                new Enum("FRNA", INT_FRNA),
+                new Enum("FRNK", INT_FRNK),
+                new Enum("FROL", INT_FROL),
+                new Enum("FRON", INT_FRON),
+                new Enum("FROS", INT_FROS),
+                new Enum("FRRS", INT_FRRS),
+                new Enum("FRRV", INT_FRRV),
+                new Enum("FRTV", INT_FRTV),
+                new Enum("FRUE", INT_FRUE),
+                new Enum("FRUN", INT_FRUN),
+                new Enum("FRYE", INT_FRYE),
+                new Enum("FSLD", INT_FSLD),
+                new Enum("FSTL", INT_FSTL),
+                new Enum("FTRC", INT_FTRC),
+                new Enum("FTWD", INT_FTWD),
+                new Enum("FUER", INT_FUER),
+                new Enum("FUJI", INT_FUJI),
+                new Enum("FULL", INT_FULL),
+                new Enum("FULT", INT_FULT),
+                new Enum("FUNL", INT_FUNL),
+                new Enum("FUNT", INT_FUNT),
+                new Enum("FUQU", INT_FUQU),
+                new Enum("FURA", INT_FURA),
+                new Enum("FUTR", INT_FUTR),
+                new Enum("FUTU", INT_FUTU),
+                new Enum("FWD", INT_FWD),
+                new Enum("GAAC", INT_GAAC),
+                new Enum("GABB", INT_GABB),
+                new Enum("GABR", INT_GABR),
+                new Enum("GADA", INT_GADA),
+                new Enum("GADB", INT_GADB),
+                new Enum("GAFN", INT_GAFN),
+                new Enum("GALA", INT_GALA),
+                new Enum("GALB", INT_GALB),
+                new Enum("GALI", INT_GALI),
+                new Enum("GALT", INT_GALT),
+                new Enum("GANN", INT_GANN),
+                new Enum("GARB", INT_GARB),
+                new Enum("GARD", INT_GARD),
+                new Enum("GARE", INT_GARE),
+                new Enum("GARH", INT_GARH),
+                new Enum("GARL", INT_GARL),
+                new Enum("GARN", INT_GARN),
+                new Enum("GARO", INT_GARO),
+                new Enum("GARP", INT_GARP),
+                new Enum("GARR", INT_GARR),
+                new Enum("GARS", INT_GARS),
+                new Enum("GARY", INT_GARY),
+                new Enum("GASE", INT_GASE),
+                new Enum("GAST", INT_GAST),
+                new Enum("GATE", INT_GATE),
+                new Enum("GATO", INT_GATO),
+                new Enum("GATP", INT_GATP),
+                new Enum("GAZ", INT_GAZ),
+                new Enum("GBCO", INT_GBCO),
+                new Enum("GCMC", INT_GCMC),
+                new Enum("GDAN", INT_GDAN),
+                new Enum("GE", INT_GE),
+                new Enum("GECI", INT_GECI),
+                new Enum("GEEB", INT_GEEB),
+                new Enum("GEEC", INT_GEEC),
+                new Enum("GEEL", INT_GEEL),
+                new Enum("GEEN", INT_GEEN),
+                new Enum("GEER", INT_GEER),
+                new Enum("GEHL", INT_GEHL),
+                new Enum("GELT", INT_GELT),
+                new Enum("GEM", INT_GEM),
+                new Enum("GEMI", INT_GEMI),
+                new Enum("GEMT", INT_GEMT),
+                new Enum("GEN", INT_GEN),
+                new Enum("GENA", INT_GENA),
+                new Enum("GENC", INT_GENC),
+                new Enum("GENE", INT_GENE),
+                new Enum("GENF", INT_GENF),
+                new Enum("GENG", INT_GENG),
+                new Enum("GENH", INT_GENH),
+                new Enum("GENI", INT_GENI),
+                new Enum("GENM", INT_GENM),
+                new Enum("GENR", INT_GENR),
+                new Enum("GENT", INT_GENT),
+                new Enum("GEO", INT_GEO),
+                new Enum("GEOR", INT_GEOR),
+                new Enum("GEOT", INT_GEOT),
+                new Enum("GERA", INT_GERA),
+                new Enum("GERC", INT_GERC),
+                new Enum("GERL", INT_GERL),
+                new Enum("GERR", INT_GERR),
+                new Enum("GETM", INT_GETM),
+                new Enum("GFHT", INT_GFHT),
+                new Enum("GFST", INT_GFST),
+                new Enum("GFTR", INT_GFTR),
+                new Enum("GHIE", INT_GHIE),
+                new Enum("GHMI", INT_GHMI),
+                new Enum("GIAA", INT_GIAA),
+                new Enum("GIAN", INT_GIAN),
+                new Enum("GIAT", INT_GIAT),
+                new Enum("GIBL", INT_GIBL),
+                new Enum("GIBR", INT_GIBR),
+                new Enum("GIDD", INT_GIDD),
+                new Enum("GIGI", INT_GIGI),
+                new Enum("GILB", INT_GILB),
+                new Enum("GILD", INT_GILD),
+                new Enum("GILE", INT_GILE),
+                new Enum("GILG", INT_GILG),
+                new Enum("GILL", INT_GILL),
+                new Enum("GILM", INT_GILM),
+                new Enum("GILS", INT_GILS),
+                new Enum("GILT", INT_GILT),
+                new Enum("GIND", INT_GIND),
+                new Enum("GINE", INT_GINE),
+                new Enum("GINR", INT_GINR),
+                new Enum("GIRA", INT_GIRA),
+                new Enum("GISN", INT_GISN),
+                new Enum("GITA", INT_GITA),
+                new Enum("GIVE", INT_GIVE),
+                new Enum("GLAD", INT_GLAD),
+                new Enum("GLAS", INT_GLAS),
+                new Enum("GLAT", INT_GLAT),
+                new Enum("GLBE", INT_GLBE),
+                new Enum("GLBL", INT_GLBL),
+                new Enum("GLCG", INT_GLCG),
+                new Enum("GLEA", INT_GLEA),
+                new Enum("GLEB", INT_GLEB),
+                new Enum("GLEC", INT_GLEC),
+                new Enum("GLEH", INT_GLEH),
+                new Enum("GLEL", INT_GLEL),
+                new Enum("GLEN", INT_GLEN),
+                new Enum("GLFI", INT_GLFI),
+                new Enum("GLID", INT_GLID),
+                new Enum("GLIT", INT_GLIT),
+                new Enum("GLMB", INT_GLMB),
+                new Enum("GLND", INT_GLND),
+                new Enum("GLNL", INT_GLNL),
+                new Enum("GLOB", INT_GLOB),
+                new Enum("GLOM", INT_GLOM),
+                new Enum("GLOS", INT_GLOS),
+                new Enum("GLOV", INT_GLOV),
+                new Enum("GLRV", INT_GLRV),
+                new Enum("GLSC", INT_GLSC),
+                new Enum("GLSS", INT_GLSS),
+                new Enum("GLST", INT_GLST),
+                new Enum("GLWO", INT_GLWO),
+                new Enum("GM", INT_GM),
+                new Enum("GMC", INT_GMC),
+                new Enum("GMRE", INT_GMRE),
+                new Enum("GNMI", INT_GNMI),
+                new Enum("GNSH", INT_GNSH),
+                new Enum("GNWF", INT_GNWF),
+                new Enum("GOAT", INT_GOAT),
+                new Enum("GOCO", INT_GOCO),
+                new Enum("GOEB", INT_GOEB),
+                new Enum("GOFF", INT_GOFF),
+                new Enum("GOGA", INT_GOGA),
+                new Enum("GOGE", INT_GOGE),
+                new Enum("GOGO", INT_GOGO),
+                new Enum("GOKT", INT_GOKT),
+                new Enum("GOLA", INT_GOLA),
+                new Enum("GOLD", INT_GOLD),
+                new Enum("GOLE", INT_GOLE),
+                new Enum("GOLI", INT_GOLI),
+                new Enum("GOLK", INT_GOLK),
+                new Enum("GOLL", INT_GOLL),
+                new Enum("GOLM", INT_GOLM),
+                new Enum("GOLN", INT_GOLN),
+                new Enum("GONA", INT_GONA),
+                new Enum("GONU", INT_GONU),
+                new Enum("GOOD", INT_GOOD),
+                new Enum("GOOS", INT_GOOS),
+                new Enum("GOOY", INT_GOOY),
+                new Enum("GORB", INT_GORB),
+                new Enum("GORD", INT_GORD),
+                new Enum("GORE", INT_GORE),
+                new Enum("GORM", INT_GORM),
+                new Enum("GORO", INT_GORO),
+                new Enum("GPRX", INT_GPRX),
+                new Enum("GRAB", INT_GRAB),
+                new Enum("GRAC", INT_GRAC),
+                new Enum("GRAD", INT_GRAD),
+                new Enum("GRAE", INT_GRAE),
+                new Enum("GRAF", INT_GRAF),
+                new Enum("GRAH", INT_GRAH),
+                new Enum("GRAM", INT_GRAM),
+                new Enum("GRAO", INT_GRAO),
+                new Enum("GRAP", INT_GRAP),
+                new Enum("GRAV", INT_GRAV),
+                new Enum("GRDN", INT_GRDN),
+                new Enum("GREA", INT_GREA),
+                new Enum("GREB", INT_GREB),
+                new Enum("GREE", INT_GREE),
+                new Enum("GREG", INT_GREG),
+                new Enum("GREI", INT_GREI),
+                new Enum("GREL", INT_GREL),
+                new Enum("GREM", INT_GREM),
+                new Enum("GREN", INT_GREN),
+                new Enum("GRER", INT_GRER),
+                new Enum("GRES", INT_GRES),
+                new Enum("GREV", INT_GREV),
+                new Enum("GRIF", INT_GRIF),
+                new Enum("GRIM", INT_GRIM),
+                new Enum("GRIZ", INT_GRIZ),
+                new Enum("GRLK", INT_GRLK),
+                new Enum("GRNE", INT_GRNE),
+                new Enum("GRNH", INT_GRNH),
+                new Enum("GROE", INT_GROE),
+                new Enum("GROV", INT_GROV),
+                new Enum("GRRM", INT_GRRM),
+                new Enum("GRSO", INT_GRSO),
+                new Enum("GRSP", INT_GRSP),
+                new Enum("GRUE", INT_GRUE),
+                new Enum("GRUM", INT_GRUM),
+                new Enum("GRVE", INT_GRVE),
+                new Enum("GRVM", INT_GRVM),
+                new Enum("GRYE", INT_GRYE),
+                new Enum("GRZL", INT_GRZL),
+                new Enum("GSCR", INT_GSCR),
+                new Enum("GSEN", INT_GSEN),
+                new Enum("GSIN", INT_GSIN),
+                new Enum("GSM", INT_GSM),
+                new Enum("GUER", INT_GUER),
+                new Enum("GUES", INT_GUES),
+                new Enum("GUID", INT_GUID),
+                new Enum("GUIZ", INT_GUIZ),
+                new Enum("GULF", INT_GULF),
+                new Enum("GUST", INT_GUST),
+                new Enum("GUTH", INT_GUTH),
+                new Enum("GUZO", INT_GUZO),
+                new Enum("GWM", INT_GWM),
+                new Enum("GYEL", INT_GYEL),
+                new Enum("GYPS", INT_GYPS),
+                new Enum("GZL", INT_GZL),
+                new Enum("HACK", INT_HACK),
+                new Enum("HADL", INT_HADL),
+                new Enum("HADX", INT_HADX),
+                new Enum("HAFA", INT_HAFA),
+                new Enum("HAFL", INT_HAFL),
+                new Enum("HAHN", INT_HAHN),
+                new Enum("HAIR", INT_HAIR),
+                new Enum("HALC", INT_HALC),
+                new Enum("HALE", INT_HALE),
+                new Enum("HALL", INT_HALL),
+                new Enum("HALM", INT_HALM),
+                new Enum("HALN", INT_HALN),
+                new Enum("HALR", INT_HALR),
+                new Enum("HAMB", INT_HAMB),
+                new Enum("HAMI", INT_HAMI),
+                new Enum("HAML", INT_HAML),
+                new Enum("HAMP", INT_HAMP),
+                new Enum("HAMR", INT_HAMR),
+                new Enum("HANK", INT_HANK),
+                new Enum("HANN", INT_HANN),
+                new Enum("HANO", INT_HANO),
+                new Enum("HANS", INT_HANS),
+                new Enum("HAPP", INT_HAPP),
+                new Enum("HAPY", INT_HAPY),
+                new Enum("HARB", INT_HARB),
+                new Enum("HARC", INT_HARC),
+                new Enum("HARD", INT_HARD),
+                new Enum("HARF", INT_HARF),
+                new Enum("HARG", INT_HARG),
+                new Enum("HARH", INT_HARH),
+                new Enum("HARI", INT_HARI),
+                new Enum("HARK", INT_HARK),
+                new Enum("HARL", INT_HARL),
+                new Enum("HARM", INT_HARM),
+                new Enum("HARN", INT_HARN),
+                new Enum("HARR", INT_HARR),
+                new Enum("HART", INT_HART),
+                new Enum("HARV", INT_HARV),
+                new Enum("HARW", INT_HARW),
+                new Enum("HAUA", INT_HAUA),
+                new Enum("HAUI", INT_HAUI),
+                new Enum("HAUL", INT_HAUL),
+                new Enum("HAUR", INT_HAUR),
+                new Enum("HAUT", INT_HAUT),
+                new Enum("HAWK", INT_HAWK),
+                new Enum("HAWN", INT_HAWN),
+                new Enum("HAWT", INT_HAWT),
+                new Enum("HAYE", INT_HAYE),
+                new Enum("HAYN", INT_HAYN),
+                new Enum("HAYS", INT_HAYS),
+                new Enum("HBTC", INT_HBTC),
+                new Enum("HD", INT_HD),
+                new Enum("HDHM", INT_HDHM),
+                new Enum("HDMC", INT_HDMC),
+                new Enum("HDSN", INT_HDSN),
+                new Enum("HEAL", INT_HEAL),
+                new Enum("HEAR", INT_HEAR),
+                new Enum("HEAT", INT_HEAT),
+                new Enum("HECD", INT_HECD),
+                new Enum("HECK", INT_HECK),
+                new Enum("HECO", INT_HECO),
+                new Enum("HEDW", INT_HEDW),
+                new Enum("HEIL", INT_HEIL),
+                new Enum("HEIN", INT_HEIN),
+                new Enum("HEIT", INT_HEIT),
+                new Enum("HELM", INT_HELM),
+                new Enum("HELR", INT_HELR),
+                new Enum("HELT", INT_HELT),
+                new Enum("HEND", INT_HEND),
+                new Enum("HENE", INT_HENE),
+                new Enum("HENK", INT_HENK),
+                new Enum("HENM", INT_HENM),
+                new Enum("HENN", INT_HENN),
+                new Enum("HENR", INT_HENR),
+                new Enum("HENS", INT_HENS),
+                new Enum("HERB", INT_HERB),
+                new Enum("HERC", INT_HERC),
+                new Enum("HERD", INT_HERD),
+                new Enum("HERI", INT_HERI),
+                new Enum("HERO", INT_HERO),
+                new Enum("HERR", INT_HERR),
+                new Enum("HERT", INT_HERT),
+                new Enum("HERZ", INT_HERZ),
+                new Enum("HESC", INT_HESC),
+                new Enum("HESS", INT_HESS),
+                new Enum("HEST", INT_HEST),
+                new Enum("HETG", INT_HETG),
+                new Enum("HEWE", INT_HEWE),
+                new Enum("HEWI", INT_HEWI),
+                new Enum("HFTD", INT_HFTD),
+                new Enum("HGON", INT_HGON),
+                new Enum("HHTC", INT_HHTC),
+                new Enum("HI", INT_HI),
+                new Enum("HIAA", INT_HIAA),
+                new Enum("HIAB", INT_HIAB),
+                new Enum("HIAW", INT_HIAW),
+                new Enum("HIBD", INT_HIBD),
+                new Enum("HIBT", INT_HIBT),
+                new Enum("HICH", INT_HICH),
+                new Enum("HICK", INT_HICK),
+                new Enum("HICO", INT_HICO),
+                new Enum("HICS", INT_HICS),
+                new Enum("HIDE", INT_HIDE),
+                new Enum("HIGA", INT_HIGA),
+                new Enum("HIGE", INT_HIGE),
+                new Enum("HIGH", INT_HIGH),
+                new Enum("HIGK", INT_HIGK),
+                new Enum("HIGL", INT_HIGL),
+                new Enum("HIGW", INT_HIGW),
+                new Enum("HIGY", INT_HIGY),
+                new Enum("HIHK", INT_HIHK),
+                new Enum("HILB", INT_HILB),
+                new Enum("HILC", INT_HILC),
+                new Enum("HILD", INT_HILD),
+                new Enum("HILF", INT_HILF),
+                new Enum("HILI", INT_HILI),
+                new Enum("HILL", INT_HILL),
+                new Enum("HILM", INT_HILM),
+                new Enum("HILO", INT_HILO),
+                new Enum("HILP", INT_HILP),
+                new Enum("HILS", INT_HILS),
+                new Enum("HILT", INT_HILT),
+                new Enum("HIND", INT_HIND),
+                new Enum("HINE", INT_HINE),
+                new Enum("HINO", INT_HINO),
+                new Enum("HINS", INT_HINS),
+                new Enum("HINT", INT_HINT),
+                new Enum("HIRE", INT_HIRE),
+                new Enum("HIST", INT_HIST),
+                new Enum("HITC", INT_HITC),
+                new Enum("HIUT", INT_HIUT),
+                new Enum("HIWY", INT_HIWY),
+                new Enum("HKEG", INT_HKEG),
+                new Enum("HKRY", INT_HKRY),
+                new Enum("HLDH", INT_HLDH),
+                new Enum("HLFM", INT_HLFM),
+                new Enum("HLPK", INT_HLPK),
+                new Enum("HLRI", INT_HLRI),
+                new Enum("HLWD", INT_HLWD),
+                new Enum("HM", INT_HM),
+                new Enum("HMDE", INT_HMDE),
+                new Enum("HME", INT_HME),
+                new Enum("HMST", INT_HMST),
+                new Enum("HMVE", INT_HMVE),
+                new Enum("HNLC", INT_HNLC),
+                new Enum("HNMR", INT_HNMR),
+                new Enum("HNSO", INT_HNSO),
+                new Enum("HOAN", INT_HOAN),
+                new Enum("HOBA", INT_HOBA),
+                new Enum("HOBB", INT_HOBB),
+                new Enum("HOBO", INT_HOBO),
+                new Enum("HODA", INT_HODA),
+                new Enum("HODG", INT_HODG),
+                new Enum("HOF", INT_HOF),
+                new Enum("HOIN", INT_HOIN),
+                new Enum("HOL", INT_HOL),
+                new Enum("HOLA", INT_HOLA),
+                new Enum("HOLD", INT_HOLD),
+                new Enum("HOLE", INT_HOLE),
+                new Enum("HOLH`", INT_HOLH),
+                new Enum("HOLI", INT_HOLI),
+                new Enum("HOLK", INT_HOLK),
+                new Enum("HOLL", INT_HOLL),
+                new Enum("HOLM", INT_HOLM),
+                new Enum("HOLN", INT_HOLN),
+                new Enum("HOLO", INT_HOLO),
+                new Enum("HOLP", INT_HOLP),
+                new Enum("HOLR", INT_HOLR),
+                new Enum("HOLS", INT_HOLS),
+                new Enum("HOLT", INT_HOLT),
+                new Enum("HOLU", INT_HOLU),
+                new Enum("HOLV", INT_HOLV),
+                new Enum("HOLW", INT_HOLW),
+                new Enum("HOLY", INT_HOLY),
+                new Enum("HOLZ", INT_HOLZ),
+                new Enum("HOMA", INT_HOMA),
+                new Enum("HOMD", INT_HOMD),
+                new Enum("HOME", INT_HOME),
+                new Enum("HOML", INT_HOML),
+                new Enum("HOMM", INT_HOMM),
+                new Enum("HOMS", INT_HOMS),
+                new Enum("HOND", INT_HOND),
+                new Enum("HONE", INT_HONE),
+                new Enum("HONG", INT_HONG),
+                new Enum("HONO", INT_HONO),
+                new Enum("HOOP", INT_HOOP),
+                new Enum("HOOS", INT_HOOS),
+                new Enum("HOP", INT_HOP),
+                new Enum("HOPK", INT_HOPK),
+                new Enum("HORC", INT_HORC),
+                new Enum("HORI", INT_HORI),
+                new Enum("HORN", INT_HORN),
+                new Enum("HORS", INT_HORS),
+                new Enum("HORT", INT_HORT),
+                new Enum("HORX", INT_HORX),
+                new Enum("HORZ", INT_HORZ),
+                new Enum("HOTC", INT_HOTC),
+                new Enum("HOUE", INT_HOUE),
+                new Enum("HOUF", INT_HOUF),
+                new Enum("HOUG", INT_HOUG),
+                new Enum("HOUH", INT_HOUH),
+                new Enum("HOWA", INT_HOWA),
+                new Enum("HOWC", INT_HOWC),
+                new Enum("HOWD", INT_HOWD),
+                new Enum("HOWE", INT_HOWE),
+                new Enum("HOWL", INT_HOWL),
+                new Enum("HOWR", INT_HOWR),
+                new Enum("HOWS", INT_HOWS),
+                new Enum("HRBN", INT_HRBN),
+                new Enum("HRG", INT_HRG),
+                new Enum("HRLL", INT_HRLL),
+                new Enum("HRRM", INT_HRRM),
+                new Enum("HRSE", INT_HRSE),
+                new Enum("HRTG", INT_HRTG),
+                new Enum("HRTI", INT_HRTI),
+                new Enum("HRTK", INT_HRTK),
+                new Enum("HRTL", INT_HRTL),
+                new Enum("HRTN", INT_HRTN),
+                new Enum("HRTO", INT_HRTO),
+                new Enum("HRTR", INT_HRTR),
+                new Enum("HRVY", INT_HRVY),
+                new Enum("HSKE", INT_HSKE),
+                new Enum("HSKY", INT_HSKY),
+                new Enum("HSMI", INT_HSMI),
+                new Enum("HSQV", INT_HSQV),
+                new Enum("HTCH", INT_HTCH),
+                new Enum("HUBE", INT_HUBE),
+                new Enum("HUDS", INT_HUDS),
+                new Enum("HUFF", INT_HUFF),
+                new Enum("HUFY", INT_HUFY),
+                new Enum("HUGH", INT_HUGH),
+                new Enum("HULL", INT_HULL),
+                new Enum("HUMB", INT_HUMB),
+                new Enum("HUME", INT_HUME),
+                new Enum("HUML", INT_HUML),
+                new Enum("HUMM", INT_HUMM),
+                new Enum("HUMS", INT_HUMS),
+                new Enum("HUNE", INT_HUNE),
+                new Enum("HUNG", INT_HUNG),
+                new Enum("HUNM", INT_HUNM),
+                new Enum("HUNT", INT_HUNT),
+                new Enum("HUPM", INT_HUPM),
+                new Enum("HURO", INT_HURO),
+                new Enum("HURS", INT_HURS),
+                new Enum("HURU", INT_HURU),
+                new Enum("HUSA", INT_HUSA),
+                new Enum("HUSF", INT_HUSF),
+                new Enum("HUSK", INT_HUSK),
+                new Enum("HUSQ", INT_HUSQ),
+                new Enum("HUSS", INT_HUSS),
+                new Enum("HUST", INT_HUST),
+                new Enum("HUTC", INT_HUTC),
+                new Enum("HUTR", INT_HUTR),
+                new Enum("HUWA", INT_HUWA),
+                new Enum("HWKT", INT_HWKT),
+                new Enum("HWMC", INT_HWMC),
+                new Enum("HWRO", INT_HWRO),
+                new Enum("HYCA", INT_HYCA),
+                new Enum("HYDE", INT_HYDE),
+                new Enum("HYDY", INT_HYDY),
+                new Enum("HYLD", INT_HYLD),
+                new Enum("HYLN", INT_HYLN),
+                new Enum("HYLT", INT_HYLT),
+                new Enum("HYOS", INT_HYOS),
+                new Enum("HYSH", INT_HYSH),
+                new Enum("HYST", INT_HYST),
+                new Enum("HYTK", INT_HYTK),
+                new Enum("HYTR", INT_HYTR),
+                new Enum("HYUN", INT_HYUN),
+                new Enum("IAME", INT_IAME),
+                new Enum("IBEN", INT_IBEN),
+                new Enum("ICL", INT_ICL),
+                new Enum("ICRP", INT_ICRP),
+                new Enum("IDEC", INT_IDEC),
+                new Enum("IDEL", INT_IDEL),
+                new Enum("IDLE", INT_IDLE),
+                new Enum("IHHI", INT_IHHI),
+                new Enum("IHTM", INT_IHTM),
+                new Enum("IJBD", INT_IJBD),
+                new Enum("IKA", INT_IKA),
+                new Enum("IMCO", INT_IMCO),
+                new Enum("IMPA", INT_IMPA),
+                new Enum("IMPB", INT_IMPB),
+                new Enum("IMPD", INT_IMPD),
+                new Enum("IMPE", INT_IMPE),
+                new Enum("IMPI", INT_IMPI),
+                new Enum("IND", INT_IND),
+                new Enum("INDA", INT_INDA),
+                new Enum("INDE", INT_INDE),
+                new Enum("INDI", INT_INDI),
+                new Enum("INDM", INT_INDM),
+                new Enum("INDN", INT_INDN),
+                new Enum("INDP", INT_INDP),
+                new Enum("INDU", INT_INDU),
+                new Enum("INFI", INT_INFI),
+                new Enum("INGE", INT_INGE),
+                new Enum("INGL", INT_INGL),
+                new Enum("INGR", INT_INGR),
+                new Enum("INGS", INT_INGS),
+                new Enum("INGT", INT_INGT),
+                new Enum("INLA", INT_INLA),
+                new Enum("INLI", INT_INLI),
+                new Enum("INMA", INT_INMA),
+                new Enum("INMC", INT_INMC),
+                new Enum("INME", INT_INME),
+                new Enum("INMN", INT_INMN),
+                new Enum("INNO", INT_INNO),
+                new Enum("INOR", INT_INOR),
+                new Enum("INRP", INT_INRP),
+                new Enum("INSL", INT_INSL),
+                new Enum("INTC", INT_INTC),
+                new Enum("INTE", INT_INTE),
+                new Enum("INTG", INT_INTG),
+                new Enum("INTI", INT_INTI),
+                new Enum("INTL", INT_INTL),
+                new Enum("INTM", INT_INTM),
+                new Enum("INTP", INT_INTP),
+                new Enum("INTR", INT_INTR),
+                new Enum("INTS", INT_INTS),
+                new Enum("INTT", INT_INTT),
+                new Enum("INVA", INT_INVA),
+                new Enum("INVO", INT_INVO),
+                new Enum("IOMO", INT_IOMO),
+                new Enum("IONI", INT_IONI),
+                new Enum("IOWA", INT_IOWA),
+                new Enum("IPSC", INT_IPSC),
+                new Enum("IRBK", INT_IRBK),
+                new Enum("IRD", INT_IRD),
+                new Enum("IRDG", INT_IRDG),
+                new Enum("ISEI", INT_ISEI),
+                new Enum("ISET", INT_ISET),
+                new Enum("ISLA", INT_ISLA),
+                new Enum("ISO", INT_ISO),
+                new Enum("ISU", INT_ISU),
+                new Enum("ITAF", INT_ITAF),
+                new Enum("ITAI", INT_ITAI),
+                new Enum("ITAL", INT_ITAL),
+                new Enum("ITAS", INT_ITAS),
+                new Enum("ITAT", INT_ITAT),
+                new Enum("ITAV", INT_ITAV),
+                new Enum("ITLR", INT_ITLR),
+                new Enum("ITOM", INT_ITOM),
+                new Enum("IVEC", INT_IVEC),
+                new Enum("JAC", INT_JAC),
+                new Enum("JACC", INT_JACC),
+                new Enum("JACK", INT_JACK),
+                new Enum("JACL", INT_JACL),
+                new Enum("JACO", INT_JACO),
+                new Enum("JACS", INT_JACS),
+                new Enum("JACT", INT_JACT),
+                new Enum("JAEG", INT_JAEG),
+                new Enum("JAGU", INT_JAGU),
+                new Enum("JAHN", INT_JAHN),
+                new Enum("JALL", INT_JALL),
+                new Enum("JAMA", INT_JAMA),
+                new Enum("JAMB", INT_JAMB),
+                new Enum("JAMC", INT_JAMC),
+                new Enum("JAMI", INT_JAMI),
+                new Enum("JAMM", INT_JAMM),
+                new Enum("JANT", INT_JANT),
+                new Enum("JARC", INT_JARC),
+                new Enum("JASO", INT_JASO),
+                new Enum("JAWA", INT_JAWA),
+                new Enum("JAY", INT_JAY),
+                new Enum("JAYD", INT_JAYD),
+                new Enum("JAYK", INT_JAYK),
+                new Enum("JAYS", INT_JAYS),
+                new Enum("JAYW", INT_JAYW),
+                new Enum("JB", INT_JB),
+                new Enum("JBEN", INT_JBEN),
+                new Enum("JCBE", INT_JCBE),
+                new Enum("JDER", INT_JDER),
+                new Enum("JDHS", INT_JDHS),
+                new Enum("JECR", INT_JECR),
+                new Enum("JEEP", INT_JEEP),
+                new Enum("JEHM", INT_JEHM),
+                new Enum("JENE", INT_JENE),
+                new Enum("JENN", INT_JENN),
+                new Enum("JENS", INT_JENS),
+                new Enum("JEP", INT_JEP),
+                new Enum("JERA", INT_JERA),
+                new Enum("JERR", INT_JERR),
+                new Enum("JERS", INT_JERS),
+                new Enum("JERW", INT_JERW),
+                new Enum("JETM", INT_JETM),
+                new Enum("JETS", INT_JETS),
+                new Enum("JEWE", INT_JEWE),
+                new Enum("JFW", INT_JFW),
+                new Enum("JHNS", INT_JHNS),
+                new Enum("JIAN", INT_JIAN),
+                new Enum("JIMA", INT_JIMA),
+                new Enum("JIMD", INT_JIMD),
+                new Enum("JIMG", INT_JIMG),
+                new Enum("JIMS", INT_JIMS),
+                new Enum("JIND", INT_JIND),
+                new Enum("JINS", INT_JINS),
+                new Enum("JJ", INT_JJ),
+                new Enum("JJJ", INT_JJJ),
+                new Enum("JJNE", INT_JJNE),
+                new Enum("JJT", INT_JJT),
+                new Enum("JJTM", INT_JJTM),
+                new Enum("JLGI", INT_JLGI),
+                new Enum("JLM", INT_JLM),
+                new Enum("JLTL", INT_JLTL),
+                new Enum("JMCY", INT_JMCY),
+                new Enum("JMGL", INT_JMGL),
+                new Enum("JMS", INT_JMS),
+                new Enum("JOBS", INT_JOBS),
+                new Enum("JOES", INT_JOES),
+                new Enum("JOEW", INT_JOEW),
+                new Enum("JOHN", INT_JOHN),
+                new Enum("JOHO", INT_JOHO),
+                new Enum("JOHS", INT_JOHS),
+                new Enum("JOLI", INT_JOLI),
+                new Enum("JOMA", INT_JOMA),
+                new Enum("JONS", INT_JONS),
+                new Enum("JOPL", INT_JOPL),
+                new Enum("JORG", INT_JORG),
+                new Enum("JOSH", INT_JOSH),
+                new Enum("JOSO", INT_JOSO),
+                new Enum("JOUR", INT_JOUR),
+                new Enum("JOWE", INT_JOWE),
+                new Enum("JOYC", INT_JOYC),
+                new Enum("JPTR", INT_JPTR),
+                new Enum("JRDN", INT_JRDN),
+                new Enum("JRMC", INT_JRMC),
+                new Enum("JROD", INT_JROD),
+                new Enum("JSMH", INT_JSMH),
+                new Enum("JSWP", INT_JSWP),
+                new Enum("JTIL", INT_JTIL),
+                new Enum("JUDE", INT_JUDE),
+                new Enum("JUIL", INT_JUIL),
+                new Enum("JUNR", INT_JUNR),
+                new Enum("JW", INT_JW),
+                new Enum("JWBC", INT_JWBC),
+                new Enum("JWSS", INT_JWSS),
+                new Enum("KAES", INT_KAES),
+                new Enum("KAIS", INT_KAIS),
+                new Enum("KAJU", INT_KAJU),
+                new Enum("KAKI", INT_KAKI),
+                new Enum("KAL", INT_KAL),
+                new Enum("KALL", INT_KALL),
+                new Enum("KALY", INT_KALY),
+                new Enum("KAM", INT_KAM),
+                new Enum("KAMA", INT_KAMA),
+                new Enum("KAMI", INT_KAMI),
+                new Enum("KAMP", INT_KAMP),
+                new Enum("KANE", INT_KANE),
+                new Enum("KANH", INT_KANH),
+                new Enum("KANN", INT_KANN),
+                new Enum("KANZ", INT_KANZ),
+                new Enum("KARA", INT_KARA),
+                new Enum("KARD", INT_KARD),
+                new Enum("KARI", INT_KARI),
+                new Enum("KARO", INT_KARO),
+                new Enum("KARR", INT_KARR),
+                new Enum("KARS", INT_KARS),
+                new Enum("KART", INT_KART),
+                new Enum("KASE", INT_KASE),
+                new Enum("KASS", INT_KASS),
+                new Enum("KAST", INT_KAST),
+                new Enum("KATL", INT_KATL),
+                new Enum("KATO", INT_KATO),
+                new Enum("KAUF", INT_KAUF),
+                new Enum("KAWK", INT_KAWK),
+                new Enum("KAYD", INT_KAYD),
+                new Enum("KAYF", INT_KAYF),
+                new Enum("KAYO", INT_KAYO),
+                new Enum("KAYW", INT_KAYW),
+                new Enum("KAZU", INT_KAZU),
+                new Enum("KBAR", INT_KBAR),
+                new Enum("KBHC", INT_KBHC),
+                new Enum("KCCF", INT_KCCF),
+                new Enum("KDMA", INT_KDMA),
+                new Enum("KEAR", INT_KEAR),
+                new Enum("KELE", INT_KELE),
+                new Enum("KELL", INT_KELL),
+                new Enum("KELO", INT_KELO),
+                new Enum("KELS", INT_KELS),
+                new Enum("KEMP", INT_KEMP),
+                new Enum("KEN", INT_KEN),
+                new Enum("KENA", INT_KENA),
+                new Enum("KENC", INT_KENC),
+                new Enum("KENM", INT_KENM),
+                new Enum("KENN", INT_KENN),
+                new Enum("KENO", INT_KENO),
+                new Enum("KENS", INT_KENS),
+                new Enum("KENT", INT_KENT),
+                new Enum("KENW", INT_KENW),
+                new Enum("KENY", INT_KENY),
+                new Enum("KEPT", INT_KEPT),
+                new Enum("KERR", INT_KERR),
+                new Enum("KESL", INT_KESL),
+                new Enum("KEYI", INT_KEYI),
+                new Enum("KEYO", INT_KEYO),
+                new Enum("KEYS", INT_KEYS),
+                new Enum("KGHY", INT_KGHY),
+                new Enum("KGMF", INT_KGMF),
+                new Enum("KIA", INT_KIA),
+                new Enum("KIBB", INT_KIBB),
+                new Enum("KIDR", INT_KIDR),
+                new Enum("KIEF", INT_KIEF),
+                new Enum("KILG", INT_KILG),
+                new Enum("KILL", INT_KILL),
+                new Enum("KIMI", INT_KIMI),
+                new Enum("KINA", INT_KINA),
+                new Enum("KINC", INT_KINC),
+                new Enum("KIND", INT_KIND),
+                new Enum("KINE", INT_KINE),
+                new Enum("KINF", INT_KINF),
+                new Enum("KINS", INT_KINS),
+                new Enum("KINZ", INT_KINZ),
+                new Enum("KIPC", INT_KIPC),
+                new Enum("KISM", INT_KISM),
+                new Enum("KISS", INT_KISS),
+                new Enum("KIT", INT_KIT),
+                new Enum("KITK", INT_KITK),
+                new Enum("KITM", INT_KITM),
+                new Enum("KLAE", INT_KLAE),
+                new Enum("KLAS", INT_KLAS),
+                new Enum("KLCL", INT_KLCL),
+                new Enum("KLEI", INT_KLEI),
+                new Enum("KLI", INT_KLI),
+                new Enum("KLIN", INT_KLIN),
+                new Enum("KLMK", INT_KLMK),
+                new Enum("KMAR", INT_KMAR),
+                new Enum("KMCU", INT_KMCU),
+                new Enum("KMGI", INT_KMGI),
+                new Enum("KMMC", INT_KMMC),
+                new Enum("KMNM", INT_KMNM),
+                new Enum("KMSR", INT_KMSR),
+                new Enum("KNBR", INT_KNBR),
+                new Enum("KNC", INT_KNC),
+                new Enum("KNG", INT_KNG),
+                new Enum("KNGH", INT_KNGH),
+                new Enum("KNGS", INT_KNGS),
+                new Enum("KNIG", INT_KNIG),
+                new Enum("KNLH", INT_KNLH),
+                new Enum("KNNW", INT_KNNW),
+                new Enum("KNOW", INT_KNOW),
+                new Enum("KNOX", INT_KNOX),
+                new Enum("KNTC", INT_KNTC),
+                new Enum("KNTI", INT_KNTI),
+                new Enum("KODI", INT_KODI),
+                new Enum("KOEH", INT_KOEH),
+                new Enum("KOEN", INT_KOEN),
+                new Enum("KOFF", INT_KOFF),
+                new Enum("KOHL", INT_KOHL),
+                new Enum("KOLB", INT_KOLB),
+                new Enum("KOMA", INT_KOMA),
+                new Enum("KOMC", INT_KOMC),
+                new Enum("KOME", INT_KOME),
+                new Enum("KOMF", INT_KOMF),
+                new Enum("KOMP", INT_KOMP),
+                new Enum("KOMR", INT_KOMR),
+                new Enum("KONK", INT_KONK),
+                new Enum("KONT", INT_KONT),
+                new Enum("KOOL", INT_KOOL),
+                new Enum("KORY", INT_KORY),
+                new Enum("KOSC", INT_KOSC),
+                new Enum("KOST", INT_KOST),
+                new Enum("KOTR", INT_KOTR),
+                new Enum("KOUN", INT_KOUN),
+                new Enum("KOVA", INT_KOVA),
+                new Enum("KOZY", INT_KOZY),
+                new Enum("KPRC", INT_KPRC),
+                new Enum("KRAE", INT_KRAE),
+                new Enum("KRAU", INT_KRAU),
+                new Enum("KRDL", INT_KRDL),
+                new Enum("KRGO", INT_KRGO),
+                new Enum("KRIS", INT_KRIS),
+                new Enum("KROM", INT_KROM),
+                new Enum("KROP", INT_KROP),
+                new Enum("KROS", INT_KROS),
+                new Enum("KROW", INT_KROW),
+                new Enum("KRST", INT_KRST),
+                new Enum("KSEA", INT_KSEA),
+                new Enum("KTM", INT_KTM),
+                new Enum("KUBO", INT_KUBO),
+                new Enum("KUHN", INT_KUHN),
+                new Enum("KURM", INT_KURM),
+                new Enum("KURT", INT_KURT),
+                new Enum("KUST", INT_KUST),
+                new Enum("KUTK", INT_KUTK),
+                new Enum("KUTZ", INT_KUTZ),
+                new Enum("KW", INT_KW),
+                new Enum("KWDT", INT_KWDT),
+                new Enum("KWKT", INT_KWKT),
+                new Enum("KWMH", INT_KWMH),
+                new Enum("KWNS", INT_KWNS),
+                new Enum("KYMC", INT_KYMC),
+                new Enum("KYRV", INT_KYRV),
+                new Enum("LABE", INT_LABE),
+                new Enum("LACH", INT_LACH),
+                new Enum("LACR", INT_LACR),
+                new Enum("LACY", INT_LACY),
+                new Enum("LADA", INT_LADA),
+                new Enum("LAFR", INT_LAFR),
+                new Enum("LAFY", INT_LAFY),
+                new Enum("LAGO", INT_LAGO),
+                new Enum("LAGU", INT_LAGU),
+                new Enum("LAKE", INT_LAKE),
+                new Enum("LAKL", INT_LAKL),
+                new Enum("LALL", INT_LALL),
+                new Enum("LAMB", INT_LAMB),
+                new Enum("LAMO", INT_LAMO),
+                new Enum("LAN", INT_LAN),
+                new Enum("LANA", INT_LANA),
+                new Enum("LANC", INT_LANC),
+                new Enum("LAND", INT_LAND),
+                new Enum("LANE", INT_LANE),
+                new Enum("LANG", INT_LANG),
+                new Enum("LANH", INT_LANH),
+                new Enum("LANL", INT_LANL),
+                new Enum("LANM", INT_LANM),
+                new Enum("LANP", INT_LANP),
+                new Enum("LANR", INT_LANR),
+                new Enum("LANS", INT_LANS),
+                new Enum("LANT", INT_LANT),
+                new Enum("LANU", INT_LANU),
+                new Enum("LAOT", INT_LAOT),
+                new Enum("LARA", INT_LARA),
+                new Enum("LARK", INT_LARK),
+                new Enum("LARN", INT_LARN),
+                new Enum("LARO", INT_LARO),
+                new Enum("LARS", INT_LARS),
+                new Enum("LARV", INT_LARV),
+                new Enum("LASA", INT_LASA),
+                new Enum("LASE", INT_LASE),
+                new Enum("LASH", INT_LASH),
+                new Enum("LASL", INT_LASL),
+                new Enum("LAVE", INT_LAVE),
+                new Enum("LAWC", INT_LAWC),
+                new Enum("LAWN", INT_LAWN),
+                new Enum("LAWR", INT_LAWR),
+                new Enum("LAYO", INT_LAYO),
+                new Enum("LAYT", INT_LAYT),
+                new Enum("LAZE", INT_LAZE),
+                new Enum("LAZJ", INT_LAZJ),
+                new Enum("LBAU", INT_LBAU),
+                new Enum("LBHR", INT_LBHR),
+                new Enum("LBOS", INT_LBOS),
+                new Enum("LBOY", INT_LBOY),
+                new Enum("LBT", INT_LBT),
+                new Enum("LBTY", INT_LBTY),
+                new Enum("LCHG", INT_LCHG),
+                new Enum("LCRT", INT_LCRT),
+                new Enum("LD", INT_LD),
+                new Enum("LDAZ", INT_LDAZ),
+                new Enum("LDMS", INT_LDMS),
+                new Enum("LDMX", INT_LDMX),
+                new Enum("LDTC", INT_LDTC),
+                new Enum("LDTL", INT_LDTL),
+                new Enum("LEAD", INT_LEAD),
+                new Enum("LEAF", INT_LEAF),
+                new Enum("LEAR", INT_LEAR),
+                new Enum("LECH", INT_LECH),
+                new Enum("LECT", INT_LECT),
+                new Enum("LEDW", INT_LEDW),
+                new Enum("LEE", INT_LEE),
+                new Enum("LEEC", INT_LEEC),
+                new Enum("LEEN", INT_LEEN),
+                new Enum("LEER", INT_LEER),
+                new Enum("LEES", INT_LEES),
+                new Enum("LEIR", INT_LEIR),
+                new Enum("LEIS", INT_LEIS),
+                new Enum("LEIT", INT_LEIT),
+                new Enum("LEIU", INT_LEIU),
+                new Enum("LEKT", INT_LEKT),
+                new Enum("LELA", INT_LELA),
+                new Enum("LELY", INT_LELY),
+                new Enum("LEM", INT_LEM),
+                new Enum("LEMC", INT_LEMC),
+                new Enum("LENT", INT_LENT),
+                new Enum("LEON", INT_LEON),
+                new Enum("LERY", INT_LERY),
+                new Enum("LESC", INT_LESC),
+                new Enum("LESR", INT_LESR),
+                new Enum("LETO", INT_LETO),
+                new Enum("LEVC", INT_LEVC),
+                new Enum("LEVI", INT_LEVI),
+                new Enum("LEWA", INT_LEWA),
+                new Enum("LEWI", INT_LEWI),
+                new Enum("LEXS", INT_LEXS),
+                new Enum("LEYL", INT_LEYL),
+                new Enum("LFET", INT_LFET),
+                new Enum("LFTL", INT_LFTL),
+                new Enum("LFZA", INT_LFZA),
+                new Enum("LG", INT_LG),
+                new Enum("LGCH", INT_LGCH),
+                new Enum("LGND", INT_LGND),
+                new Enum("LHRN", INT_LHRN),
+                new Enum("LIBA", INT_LIBA),
+                new Enum("LIBE", INT_LIBE),
+                new Enum("LIBH", INT_LIBH),
+                new Enum("LIBY", INT_LIBY),
+                new Enum("LICH", INT_LICH),
+                new Enum("LICO", INT_LICO),
+                new Enum("LIEB", INT_LIEB),
+                new Enum("LIFM", INT_LIFM),
+                new Enum("LIGC", INT_LIGC),
+                new Enum("LIGH", INT_LIGH),
+                new Enum("LIGP", INT_LIGP),
+                new Enum("LIGT", INT_LIGT),
+                new Enum("LILA", INT_LILA),
+                new Enum("LILC", INT_LILC),
+                new Enum("LILL", INT_LILL),
+                new Enum("LILN", INT_LILN),
+                new Enum("LILZ", INT_LILZ),
+                new Enum("LINC", INT_LINC),
+                new Enum("LIND", INT_LIND),
+                new Enum("LINF", INT_LINF),
+                new Enum("LINH", INT_LINH),
+                new Enum("LINM", INT_LINM),
+                new Enum("LINP", INT_LINP),
+                new Enum("LINT", INT_LINT),
+                new Enum("LINV", INT_LINV),
+                new Enum("LINW", INT_LINW),
+                new Enum("LIOL", INT_LIOL),
+                new Enum("LION", INT_LION),
+                new Enum("LIPR", INT_LIPR),
+                new Enum("LIQU", INT_LIQU),
+                new Enum("LISL", INT_LISL),
+                new Enum("LITC", INT_LITC),
+                new Enum("LITD", INT_LITD),
+                new Enum("LITK", INT_LITK),
+                new Enum("LITP", INT_LITP),
+                new Enum("LITS", INT_LITS),
+                new Enum("LITT", INT_LITT),
+                new Enum("LKWD", INT_LKWD),
+                new Enum("LLOD", INT_LLOD),
+                new Enum("LLOY", INT_LLOY),
+                new Enum("LLTR", INT_LLTR),
+                new Enum("LMC", INT_LMC),
+                new Enum("LMLC", INT_LMLC),
+                new Enum("LMMC", INT_LMMC),
+                new Enum("LNCE", INT_LNCE),
+                new Enum("LNCI", INT_LNCI),
+                new Enum("LNCO", INT_LNCO),
+                new Enum("LNDN", INT_LNDN),
+                new Enum("LNDR", INT_LNDR),
+                new Enum("LNEW", INT_LNEW),
+                new Enum("LNGH", INT_LNGH),
+                new Enum("LNPD", INT_LNPD),
+                new Enum("LNRD", INT_LNRD),
+                new Enum("LNST", INT_LNST),
+                new Enum("LNWF", INT_LNWF),
+                new Enum("LOAD", INT_LOAD),
+                new Enum("LOAK", INT_LOAK),
+                new Enum("LOCK", INT_LOCK),
+                new Enum("LOCO", INT_LOCO),
+                new Enum("LODA", INT_LODA),
+                new Enum("LODC", INT_LODC),
+                new Enum("LODE", INT_LODE),
+                new Enum("LODZ", INT_LODZ),
+                new Enum("LOFT", INT_LOFT),
+                new Enum("LOGN", INT_LOGN),
+                new Enum("LOLA", INT_LOLA),
+                new Enum("LOM", INT_LOM),
+                new Enum("LONA", INT_LONA),
+                new Enum("LONB", INT_LONB),
+                new Enum("LOND", INT_LOND),
+                new Enum("LONE", INT_LONE),
+                new Enum("LONF", INT_LONF),
+                new Enum("LONG", INT_LONG),
+                new Enum("LONH", INT_LONH),
+                new Enum("LONL", INT_LONL),
+                new Enum("LONN", INT_LONN),
+                new Enum("LONR", INT_LONR),
+                new Enum("LONT", INT_LONT),
+                new Enum("LOOD", INT_LOOD),
+                new Enum("LOPR", INT_LOPR),
+                new Enum("LORA", INT_LORA),
+                new Enum("LORK", INT_LORK),
+                new Enum("LOTU", INT_LOTU),
+                new Enum("LOVB", INT_LOVB),
+                new Enum("LOVE", INT_LOVE),
+                new Enum("LOWB", INT_LOWB),
+                new Enum("LOWE", INT_LOWE),
+                new Enum("LOWP", INT_LOWP),
+                new Enum("LRNG", INT_LRNG),
+                new Enum("LSKP", INT_LSKP),
+                new Enum("LSLN", INT_LSLN),
+                new Enum("LSUR", INT_LSUR),
+                new Enum("LTCH", INT_LTCH),
+                new Enum("LUBB", INT_LUBB),
+                new Enum("LUED", INT_LUED),
+                new Enum("LUFK", INT_LUFK),
+                new Enum("LUGR", INT_LUGR),
+                new Enum("LUKY", INT_LUKY),
+                new Enum("LULL", INT_LULL),
+                new Enum("LUND", INT_LUND),
+                new Enum("LUNG", INT_LUNG),
+                new Enum("LUVI", INT_LUVI),
+                new Enum("LUXO", INT_LUXO),
+                new Enum("LUXU", INT_LUXU),
+                new Enum("LWLF", INT_LWLF),
+                new Enum("LYMA", INT_LYMA),
+                new Enum("LYNC", INT_LYNC),
+                new Enum("LYNH", INT_LYNH),
+                new Enum("LYNN", INT_LYNN),
+                new Enum("LYNR", INT_LYNR),
+                new Enum("MACA", INT_MACA),
+                new Enum("MACC", INT_MACC),
+                new Enum("MACD", INT_MACD),
+                new Enum("MACG", INT_MACG),
+                new Enum("MACK", INT_MACK),
+                new Enum("MACL", INT_MACL),
+                new Enum("MACO", INT_MACO),
+                new Enum("MACR", INT_MACR),
+                new Enum("MADD", INT_MADD),
+                new Enum("MADM", INT_MADM),
+                new Enum("MADR", INT_MADR),
+                new Enum("MAEN", INT_MAEN),
+                new Enum("MAGA", INT_MAGA),
+                new Enum("MAGC", INT_MAGC),
+                new Enum("MAGI", INT_MAGI),
+                new Enum("MAGL", INT_MAGL),
+                new Enum("MAGN", INT_MAGN),
+                new Enum("MAGO", INT_MAGO),
+                new Enum("MAGT", INT_MAGT),
+                new Enum("MAHA", INT_MAHA),
+                new Enum("MAHI", INT_MAHI),
+                new Enum("MAHO", INT_MAHO),
+                new Enum("MAI", INT_MAI),
+                new Enum("MAIC", INT_MAIC),
+                new Enum("MAIN", INT_MAIN),
+                new Enum("MAIR", INT_MAIR),
+                new Enum("MAJE", INT_MAJE),
+                new Enum("MAJO", INT_MAJO),
+                new Enum("MAJR", INT_MAJR),
+                new Enum("MAKV", INT_MAKV),
+                new Enum("MAL", INT_MAL),
+                new Enum("MALA", INT_MALA),
+                new Enum("MALE", INT_MALE),
+                new Enum("MALH", INT_MALH),
+                new Enum("MALI", INT_MALI),
+                new Enum("MALL", INT_MALL),
+                new Enum("MALN", INT_MALN),
+                new Enum("MALO", INT_MALO),
+                new Enum("MALR", INT_MALR),
+                new Enum("MALS", INT_MALS),
+                new Enum("MALY", INT_MALY),
+                new Enum("MANA", INT_MANA),
+                new Enum("MANC", INT_MANC),
+                new Enum("MANE", INT_MANE),
+                new Enum("MANG", INT_MANG),
+                new Enum("MANI", INT_MANI),
+                new Enum("MANK", INT_MANK),
+                new Enum("MANM", INT_MANM),
+                new Enum("MANN", INT_MANN),
+                new Enum("MANO", INT_MANO),
+                new Enum("MANT", INT_MANT),
+                new Enum("MAPL", INT_MAPL),
+                new Enum("MAPO", INT_MAPO),
+                new Enum("MAQI", INT_MAQI),
+                new Enum("MARA", INT_MARA),
+                new Enum("MARB", INT_MARB),
+                new Enum("MARC", INT_MARC),
+                new Enum("MARF", INT_MARF),
+                new Enum("MARG", INT_MARG),
+                new Enum("MARH", INT_MARH),
+                new Enum("MARI", INT_MARI),
+                new Enum("MARK", INT_MARK),
+                new Enum("MARL", INT_MARL),
+                new Enum("MARM", INT_MARM),
+                new Enum("MARN", INT_MARN),
+                new Enum("MARO", INT_MARO),
+                new Enum("MARP", INT_MARP),
+                new Enum("MARQ", INT_MARQ),
+                new Enum("MARR", INT_MARR),
+                new Enum("MARS", INT_MARS),
+                new Enum("MART", INT_MART),
+                new Enum("MARU", INT_MARU),
+                new Enum("MARV", INT_MARV),
+                new Enum("MARW", INT_MARW),
+                new Enum("MASC", INT_MASC),
+                new Enum("MASE", INT_MASE),
+                new Enum("MASG", INT_MASG),
+                new Enum("MASL", INT_MASL),
+                new Enum("MASN", INT_MASN),
+                new Enum("MASR", INT_MASR),
+                new Enum("MASS", INT_MASS),
+                new Enum("MAST", INT_MAST),
+                new Enum("MASV", INT_MASV),
+                new Enum("MASY", INT_MASY),
+                new Enum("MATA", INT_MATA),
+                new Enum("MATE", INT_MATE),
+                new Enum("MATL", INT_MATL),
+                new Enum("MATR", INT_MATR),
+                new Enum("MAUL", INT_MAUL),
+                new Enum("MAUM", INT_MAUM),
+                new Enum("MAUR", INT_MAUR),
+                new Enum("MAV", INT_MAV),
+                new Enum("MAVE", INT_MAVE),
+                new Enum("MAVI", INT_MAVI),
+                new Enum("MAVL", INT_MAVL),
+                new Enum("MAVN", INT_MAVN),
+                new Enum("MAXC", INT_MAXC),
+                new Enum("MAXE", INT_MAXE),
+                new Enum("MAXI", INT_MAXI),
+                new Enum("MAXL", INT_MAXL),
+                new Enum("MAXO", INT_MAXO),
+                new Enum("MAYA", INT_MAYA),
+                new Enum("MAYB", INT_MAYB),
+                new Enum("MAYC", INT_MAYC),
+                new Enum("MAYF", INT_MAYF),
+                new Enum("MAYR", INT_MAYR),
+                new Enum("MAYS", INT_MAYS),
+                new Enum("MAZD", INT_MAZD),
+                new Enum("MBCC", INT_MBCC),
+                new Enum("MBCO", INT_MBCO),
+                new Enum("MBCP", INT_MBCP),
+                new Enum("MBEE", INT_MBEE),
+                new Enum("MBIE", INT_MBIE),
+                new Enum("MBIL", INT_MBIL),
+                new Enum("MBM", INT_MBM),
+                new Enum("MBTR", INT_MBTR),
+                new Enum("MBWI", INT_MBWI),
+                new Enum("MCAF", INT_MCAF),
+                new Enum("MCBM", INT_MCBM),
+                new Enum("MCCA", INT_MCCA),
+                new Enum("MCCB", INT_MCCB),
+                new Enum("MCCK", INT_MCCK),
+                new Enum("MCCL", INT_MCCL),
+                new Enum("MCCM", INT_MCCM),
+                new Enum("MCCO", INT_MCCO),
+                new Enum("MCCR", INT_MCCR),
+                new Enum("MCCU", INT_MCCU),
+                new Enum("MCCY", INT_MCCY),
+                new Enum("MCFA", INT_MCFA),
+                new Enum("MCIN", INT_MCIN),
+                new Enum("MCKA", INT_MCKA),
+                new Enum("MCKT", INT_MCKT),
+                new Enum("MCKY", INT_MCKY),
+                new Enum("MCNA", INT_MCNA),
+                new Enum("MCNM", INT_MCNM),
+                new Enum("MCOL", INT_MCOL),
+                new Enum("MCOX", INT_MCOX),
+                new Enum("MCOY", INT_MCOY),
+                new Enum("MCQU", INT_MCQU),
+                new Enum("MCQV", INT_MCQV),
+                new Enum("MCRD", INT_MCRD),
+                new Enum("MCRR", INT_MCRR),
+                new Enum("MDAM", INT_MDAM),
+                new Enum("MDLR", INT_MDLR),
+                new Enum("MDNA", INT_MDNA),
+                new Enum("MDS", INT_MDS),
+                new Enum("MDST", INT_MDST),
+                new Enum("MDTR", INT_MDTR),
+                new Enum("MEAD", INT_MEAD),
+                new Enum("MEAN", INT_MEAN),
+                new Enum("MEBT", INT_MEBT),
+                new Enum("MECH", INT_MECH),
+                new Enum("MEDA", INT_MEDA),
+                new Enum("MEDF", INT_MEDF),
+                new Enum("MEDI", INT_MEDI),
+                new Enum("MEIT", INT_MEIT),
+                new Enum("MELA", INT_MELA),
+                new Enum("MELG", INT_MELG),
+                new Enum("MELM", INT_MELM),
+                new Enum("MELO", INT_MELO),
+                new Enum("MELR", INT_MELR),
+                new Enum("MENS", INT_MENS),
+                new Enum("MERB", INT_MERB),
+                new Enum("MERC", INT_MERC),
+                new Enum("MERH", INT_MERH),
+                new Enum("MERI", INT_MERI),
+                new Enum("MERK", INT_MERK),
+                new Enum("MERM", INT_MERM),
+                new Enum("MERR", INT_MERR),
+                new Enum("MERT", INT_MERT),
+                new Enum("MERW", INT_MERW),
+                new Enum("MERY", INT_MERY),
+                new Enum("MERZ", INT_MERZ),
+                new Enum("MESA", INT_MESA),
+                new Enum("MESS", INT_MESS),
+                new Enum("META", INT_META),
+                new Enum("METE", INT_METE),
+                new Enum("METL", INT_METL),
+                new Enum("METO", INT_METO),
+                new Enum("METR", INT_METR),
+                new Enum("METV", INT_METV),
+                new Enum("METZ", INT_METZ),
+                new Enum("MEYE", INT_MEYE),
+                new Enum("MFAB", INT_MFAB),
+                new Enum("MG", INT_MG),
+                new Enum("MGM", INT_MGM),
+                new Enum("MGNM", INT_MGNM),
+                new Enum("MGNO", INT_MGNO),
+                new Enum("MGOS", INT_MGOS),
+                new Enum("MGS", INT_MGS),
+                new Enum("MHEB", INT_MHEB),
+                new Enum("MHMC", INT_MHMC),
+                new Enum("MICA", INT_MICA),
+                new Enum("MICC", INT_MICC),
+                new Enum("MICG", INT_MICG),
+                new Enum("MIDA", INT_MIDA),
+                new Enum("MIDC", INT_MIDC),
+                new Enum("MIDD", INT_MIDD),
+                new Enum("MIDE", INT_MIDE),
+                new Enum("MIDI", INT_MIDI),
+                new Enum("MIDL", INT_MIDL),
+                new Enum("MIDM", INT_MIDM),
+                new Enum("MIDQ", INT_MIDQ),
+                new Enum("MIDS", INT_MIDS),
+                new Enum("MIDT", INT_MIDT),
+                new Enum("MIDW", INT_MIDW),
+                new Enum("MIFU", INT_MIFU),
+                new Enum("MIKA", INT_MIKA),
+                new Enum("MIKR", INT_MIKR),
+                new Enum("MIL", INT_MIL),
+                new Enum("MILA", INT_MILA),
+                new Enum("MILC", INT_MILC),
+                new Enum("MILE", INT_MILE),
+                new Enum("MILL", INT_MILL),
+                new Enum("MILR", INT_MILR),
+                new Enum("MILT", INT_MILT),
+                new Enum("MILW", INT_MILW),
+                new Enum("MILY", INT_MILY),
+                new Enum("MIMO", INT_MIMO),
+                new Enum("MIND", INT_MIND),
+                new Enum("MINI", INT_MINI),
+                new Enum("MINN", INT_MINN),
+                new Enum("MIRA", INT_MIRA),
+                new Enum("MIST", INT_MIST),
+                new Enum("MIT", INT_MIT),
+                new Enum("MITC", INT_MITC),
+                new Enum("MITS", INT_MITS),
+                new Enum("MITT", INT_MITT),
+                new Enum("MJCK", INT_MJCK),
+                new Enum("MJME", INT_MJME),
+                new Enum("MJMT", INT_MJMT),
+                new Enum("MKMH", INT_MKMH),
+                new Enum("MLBL", INT_MLBL),
+                new Enum("MLLM", INT_MLLM),
+                new Enum("MLLR", INT_MLLR),
+                new Enum("MLRO", INT_MLRO),
+                new Enum("MLTI", INT_MLTI),
+                new Enum("MLTK", INT_MLTK),
+                new Enum("MLXC", INT_MLXC),
+                new Enum("MMCL", INT_MMCL),
+                new Enum("MMMC", INT_MMMC),
+                new Enum("MNAC", INT_MNAC),
+                new Enum("MNAR", INT_MNAR),
+                new Enum("MNDI", INT_MNDI),
+                new Enum("MNLN", INT_MNLN),
+                new Enum("MNNI", INT_MNNI),
+                new Enum("MNRC", INT_MNRC),
+                new Enum("MNRK", INT_MNRK),
+                new Enum("MNRO", INT_MNRO),
+                new Enum("MNSN", INT_MNSN),
+                new Enum("MNTA", INT_MNTA),
+                new Enum("MNTE", INT_MNTE),
+                new Enum("MNTG", INT_MNTG),
+                new Enum("MOAL", INT_MOAL),
+                new Enum("MOBB", INT_MOBB),
+                new Enum("MOBC", INT_MOBC),
+                new Enum("MOBE", INT_MOBE),
+                new Enum("MOBF", INT_MOBF),
+                new Enum("MOBG", INT_MOBG),
+                new Enum("MOBH", INT_MOBH),
+                new Enum("MOBI", INT_MOBI),
+                new Enum("MOBJ", INT_MOBJ),
+                new Enum("MOBK", INT_MOBK),
+                new Enum("MOBL", INT_MOBL),
+                new Enum("MOBN", INT_MOBN),
+                new Enum("MOBO", INT_MOBO),
+                new Enum("MOBP", INT_MOBP),
+                new Enum("MOBR", INT_MOBR),
+                new Enum("MOBS", INT_MOBS),
+                new Enum("MOBT", INT_MOBT),
+                new Enum("MOBU", INT_MOBU),
+                new Enum("MOBV", INT_MOBV),
+                new Enum("MOBW", INT_MOBW),
+                new Enum("MOBX", INT_MOBX),
+                new Enum("MOCA", INT_MOCA),
+                new Enum("MOCC", INT_MOCC),
+                new Enum("MOCR", INT_MOCR),
+                new Enum("MOCY", INT_MOCY),
+                new Enum("MODE", INT_MODE),
+                new Enum("MODH", INT_MODH),
+                new Enum("MODI", INT_MODI),
+                new Enum("MODL", INT_MODL),
+                new Enum("MODN", INT_MODN),
+                new Enum("MODR", INT_MODR),
+                new Enum("MODU", INT_MODU),
+                new Enum("MOFF", INT_MOFF),
+                new Enum("MOGA", INT_MOGA),
+                new Enum("MOGU", INT_MOGU),
+                new Enum("MOHA", INT_MOHA),
+                new Enum("MOHO", INT_MOHO),
+                new Enum("MOJA", INT_MOJA),
+                new Enum("MOLL", INT_MOLL),
+                new Enum("MOLY", INT_MOLY),
+                new Enum("MOMO", INT_MOMO),
+                new Enum("MONA", INT_MONA),
+                new Enum("MONB", INT_MONB),
+                new Enum("MONC", INT_MONC),
+                new Enum("MOND", INT_MOND),
+                new Enum("MONG", INT_MONG),
+                new Enum("MONH", INT_MONH),
+                new Enum("MONI", INT_MONI),
+                new Enum("MONN", INT_MONN),
+                new Enum("MONO", INT_MONO),
+                new Enum("MONR", INT_MONR),
+                new Enum("MONS", INT_MONS),
+                new Enum("MONT", INT_MONT),
+                new Enum("MONU", INT_MONU),
+                new Enum("MONV", INT_MONV),
+                new Enum("MONW", INT_MONW),
+                new Enum("MOOD", INT_MOOD),
+                new Enum("MOOR", INT_MOOR),
+                new Enum("MORD", INT_MORD),
+                new Enum("MORE", INT_MORE),
+                new Enum("MORG", INT_MORG),
+                new Enum("MORI", INT_MORI),
+                new Enum("MORM", INT_MORM),
+                new Enum("MORN", INT_MORN),
+                new Enum("MORR", INT_MORR),
+                new Enum("MORS", INT_MORS),
+                new Enum("MORT", INT_MORT),
+                new Enum("MORU", INT_MORU),
+                new Enum("MORW", INT_MORW),
+                new Enum("MOSE", INT_MOSE),
+                new Enum("MOSK", INT_MOSK),
+                new Enum("MOSW", INT_MOSW),
+                new Enum("MOTA", INT_MOTA),
+                new Enum("MOTB", INT_MOTB),
+                new Enum("MOTE", INT_MOTE),
+                new Enum("MOTM", INT_MOTM),
+                new Enum("MOTN", INT_MOTN),
+                new Enum("MOTO", INT_MOTO),
+                new Enum("MOTR", INT_MOTR),
+                new Enum("MOTS", INT_MOTS),
+                new Enum("MOUA", INT_MOUA),
+                new Enum("MOUE", INT_MOUE),
+                new Enum("MOUM", INT_MOUM),
+                new Enum("MOUN", INT_MOUN),
+                new Enum("MOUT", INT_MOUT),
+                new Enum("MOWA", INT_MOWA),
+                new Enum("MOWE", INT_MOWE),
+                new Enum("MPC", INT_MPC),
+                new Enum("MRAU", INT_MRAU),
+                new Enum("MRCO", INT_MRCO),
+                new Enum("MRCU", INT_MRCU),
+                new Enum("MRED", INT_MRED),
+                new Enum("MRIN", INT_MRIN),
+                new Enum("MRIO", INT_MRIO),
+                new Enum("MRNE", INT_MRNE),
+                new Enum("MRQM", INT_MRQM),
+                new Enum("MRRA", INT_MRRA),
+                new Enum("MRS", INT_MRS),
+                new Enum("MRTE", INT_MRTE),
+                new Enum("MRTI", INT_MRTI),
+                new Enum("MRTN", INT_MRTN),
+                new Enum("MRTZ", INT_MRTZ),
+                new Enum("MSFI", INT_MSFI),
+                new Enum("MSI", INT_MSI),
+                new Enum("MSTG", INT_MSTG),
+                new Enum("MSTW", INT_MSTW),
+                new Enum("MT", INT_MT),
+                new Enum("MT-AEAG", INT_MT_AEAG),
+                new Enum("MT-AGYL", INT_MT_AGYL),
+                new Enum("MT-AIH", INT_MT_AIH),
+                new Enum("MT-AJS", INT_MT_AJS),
+                new Enum("MT-AJW", INT_MT_AJW),
+                new Enum("MT-ALED", INT_MT_ALED),
+                new Enum("MT-ALEX", INT_MT_ALEX),
+                new Enum("MT-ALLL", INT_MT_ALLL),
+                new Enum("MT-ALOU", INT_MT_ALOU),
+                new Enum("MT-ALPH", INT_MT_ALPH),
+                new Enum("MT-ALSP", INT_MT_ALSP),
+                new Enum("MT-AMBA", INT_MT_AMBA),
+                new Enum("MT-AMDB", INT_MT_AMDB),
+                new Enum("MT-AMEN", INT_MT_AMEN),
+                new Enum("MT-AMF", INT_MT_AMF),
+                new Enum("MT-AMI", INT_MT_AMI),
+                new Enum("MT-AMLF", INT_MT_AMLF),
+                new Enum("MT-AMME", INT_MT_AMME),
+                new Enum("MT-AMPF", INT_MT_AMPF),
+                new Enum("MT-AMPT", INT_MT_AMPT),
+                new Enum("MT-AMQT", INT_MT_AMQT),
+                new Enum("MT-ANGL", INT_MT_ANGL),
+                new Enum("MT-APRI", INT_MT_APRI),
+                new Enum("MT-ARCA", INT_MT_ARCA),
+                new Enum("MT-ARGG", INT_MT_ARGG),
+                new Enum("MT-ARIE", INT_MT_ARIE),
+                new Enum("MT-ARTI", INT_MT_ARTI),
+                new Enum("MT-ASPS", INT_MT_ASPS),
+                new Enum("MT-ATAS", INT_MT_ATAS),
+                new Enum("MT-ATEX", INT_MT_ATEX),
+                new Enum("MT-ATK", INT_MT_ATK),
+                new Enum("MT-ATV", INT_MT_ATV),
+                new Enum("MT-AUG", INT_MT_AUG),
+                new Enum("MT-AURA", INT_MT_AURA),
+                new Enum("MT-AVAN", INT_MT_AVAN),
+                new Enum("MT-BAJA", INT_MT_BAJA),
+                new Enum("MT-BALK", INT_MT_BALK),
+                new Enum("MT-BANM", INT_MT_BANM),
+                new Enum("MT-BBW", INT_MT_BBW),
+                new Enum("MT-BDFL", INT_MT_BDFL),
+                new Enum("MT-BEBE", INT_MT_BEBE),
+                new Enum("MT-BENE", INT_MT_BENE),
+                new Enum("MT-BETA", INT_MT_BETA),
+                new Enum("MT-BGDG", INT_MT_BGDG),
+                new Enum("MT-BGHM", INT_MT_BGHM),
+                new Enum("MT-BIAN", INT_MT_BIAN),
+                new Enum("MT-BIMO", INT_MT_BIMO),
+                new Enum("MT-BIRD", INT_MT_BIRD),
+                new Enum("MT-BLAE", INT_MT_BLAE),
+                new Enum("MT-BMW", INT_MT_BMW),
+                new Enum("MT-BNZA", INT_MT_BNZA),
+                new Enum("MT-BOMB", INT_MT_BOMB),
+                new Enum("MT-BOND", INT_MT_BOND),
+                new Enum("MT-BOSS", INT_MT_BOSS),
+                new Enum("MT-BREK", INT_MT_BREK),
+                new Enum("MT-BRID", INT_MT_BRID),
+                new Enum("MT-BRLL", INT_MT_BRLL),
+                new Enum("MT-BRON", INT_MT_BRON),
+                new Enum("MT-BRST", INT_MT_BRST),
+                new Enum("MT-BRTT", INT_MT_BRTT),
+                new Enum("MT-BRUT", INT_MT_BRUT),
+                new Enum("MT-BSA", INT_MT_BSA),
+                new Enum("MT-BTVS", INT_MT_BTVS),
+                new Enum("MT-BUEL", INT_MT_BUEL),
+                new Enum("MT-BUG", INT_MT_BUG),
+                new Enum("MT-BULT", INT_MT_BULT),
+                new Enum("MT-BURO", INT_MT_BURO),
+                new Enum("MT-CAAR", INT_MT_CAAR),
+                new Enum("MT-CABK", INT_MT_CABK),
+                new Enum("MT-CACY", INT_MT_CACY),
+                new Enum("MT-CAFF", INT_MT_CAFF),
+                new Enum("MT-CALO", INT_MT_CALO),
+                new Enum("MT-CANA", INT_MT_CANA),
+                new Enum("MT-CANN", INT_MT_CANN),
+                new Enum("MT-CAPR", INT_MT_CAPR),
+                new Enum("MT-CASL", INT_MT_CASL),
+                new Enum("MT-CATM", INT_MT_CATM),
+                new Enum("MT-CBRO", INT_MT_CBRO),
+                new Enum("MT-CCCY", INT_MT_CCCY),
+                new Enum("MT-CENT", INT_MT_CENT),
+                new Enum("MT-CEZE", INT_MT_CEZE),
+                new Enum("MT-CHAP", INT_MT_CHAP),
+                new Enum("MT-CHIB", INT_MT_CHIB),
+                new Enum("MT-CHLY", INT_MT_CHLY),
+                new Enum("MT-CHMC", INT_MT_CHMC),
+                new Enum("MT-CHTH", INT_MT_CHTH),
+                new Enum("MT-CIMA", INT_MT_CIMA),
+                new Enum("MT-CJGC", INT_MT_CJGC),
+                new Enum("MT-CLIT", INT_MT_CLIT),
+                new Enum("MT-CLMN", INT_MT_CLMN),
+                new Enum("MT-CMCC", INT_MT_CMCC),
+                new Enum("MT-CMCW", INT_MT_CMCW),
+                new Enum("MT-CMPG", INT_MT_CMPG),
+                new Enum("MT-COBM", INT_MT_COBM),
+                new Enum("MT-COCO", INT_MT_COCO),
+                new Enum("MT-COLB", INT_MT_COLB),
+                new Enum("MT-COMU", INT_MT_COMU),
+                new Enum("MT-COND", INT_MT_COND),
+                new Enum("MT-CONF", INT_MT_CONF),
+                new Enum("MT-CONT", INT_MT_CONT),
+                new Enum("MT-COOP", INT_MT_COOP),
+                new Enum("MT-COSM", INT_MT_COSM),
+                new Enum("MT-COTN", INT_MT_COTN),
+                new Enum("MT-CRAF", INT_MT_CRAF),
+                new Enum("MT-CREL", INT_MT_CREL),
+                new Enum("MT-CRGR", INT_MT_CRGR),
+                new Enum("MT-CTTM", INT_MT_CTTM),
+                new Enum("MT-CUSH", INT_MT_CUSH),
+                new Enum("MT-CUYL", INT_MT_CUYL),
+                new Enum("MT-CWPC", INT_MT_CWPC),
+                new Enum("MT-CYCL", INT_MT_CYCL),
+                new Enum("MT-CYSC", INT_MT_CYSC),
+                new Enum("MT-CZ", INT_MT_CZ),
+                new Enum("MT-DALE", INT_MT_DALE),
+                new Enum("MT-DANU", INT_MT_DANU),
+                new Enum("MT-DARW", INT_MT_DARW),
+                new Enum("MT-DAZN", INT_MT_DAZN),
+                new Enum("MT-DEER", INT_MT_DEER),
+                new Enum("MT-DERB", INT_MT_DERB),
+                new Enum("MT-DINL", INT_MT_DINL),
+                new Enum("MT-DKR", INT_MT_DKR),
+                new Enum("MT-DKW", INT_MT_DKW),
+                new Enum("MT-DMP", INT_MT_DMP),
+                new Enum("MT-DOT", INT_MT_DOT),
+                new Enum("MT-DSPD", INT_MT_DSPD),
+                new Enum("MT-DUCA", INT_MT_DUCA),
+                new Enum("MT-DYCY", INT_MT_DYCY),
+                new Enum("MT-DYTC", INT_MT_DYTC),
+                new Enum("MT-ECOB", INT_MT_ECOB),
+                new Enum("MT-ECTA", INT_MT_ECTA),
+                new Enum("MT-EDWN", INT_MT_EDWN),
+                new Enum("MT-EGLE", INT_MT_EGLE),
+                new Enum("MT-EKCH", INT_MT_EKCH),
+                new Enum("MT-ELCY", INT_MT_ELCY),
+                new Enum("MT-ELVT", INT_MT_ELVT),
+                new Enum("MT-EMML", INT_MT_EMML),
+                new Enum("MT-ENMC", INT_MT_ENMC),
+                new Enum("MT-ESIX", INT_MT_ESIX),
+                new Enum("MT-ETON", INT_MT_ETON),
+                new Enum("MT-EXCR", INT_MT_EXCR),
+                new Enum("MT-EXCY", INT_MT_EXCY),
+                new Enum("MT-EXHE", INT_MT_EXHE),
+                new Enum("MT-EXPL", INT_MT_EXPL),
+                new Enum("MT-FATC", INT_MT_FATC),
+                new Enum("MT-FHL", INT_MT_FHL),
+                new Enum("MT-FLAN", INT_MT_FLAN),
+                new Enum("MT-FLEO", INT_MT_FLEO),
+                new Enum("MT-FLYI", INT_MT_FLYI),
+                new Enum("MT-FN", INT_MT_FN),
+                new Enum("MT-FNTM", INT_MT_FNTM),
+                new Enum("MT-FOMO", INT_MT_FOMO),
+                new Enum("MT-FOX", INT_MT_FOX),
+                new Enum("MT-FOXI", INT_MT_FOXI),
+                new Enum("MT-FRBA", INT_MT_FRBA),
+                new Enum("MT-FRUN", INT_MT_FRUN),
+                new Enum("MT-FTRC", INT_MT_FTRC),
+                new Enum("MT-FUJI", INT_MT_FUJI),
+                new Enum("MT-GABB", INT_MT_GABB),
+                new Enum("MT-GADB", INT_MT_GADB),
+                new Enum("MT-GARE", INT_MT_GARE),
+                new Enum("MT-GEEL", INT_MT_GEEL),
+                new Enum("MT-GEMI", INT_MT_GEMI),
+                new Enum("MT-GENR", INT_MT_GENR),
+                new Enum("MT-GILE", INT_MT_GILE),
+                new Enum("MT-GILL", INT_MT_GILL),
+                new Enum("MT-GISN", INT_MT_GISN),
+                new Enum("MT-GITA", INT_MT_GITA),
+                new Enum("MT-GLBE", INT_MT_GLBE),
+                new Enum("MT-GLMB", INT_MT_GLMB),
+                new Enum("MT-GOGO", INT_MT_GOGO),
+                new Enum("MT-GOKT", INT_MT_GOKT),
+                new Enum("MT-GREV", INT_MT_GREV),
+                new Enum("MT-GROV", INT_MT_GROV),
+                new Enum("MT-GRRM", INT_MT_GRRM),
+                new Enum("MT-GRYE", INT_MT_GRYE),
+                new Enum("MT-GUIZ", INT_MT_GUIZ),
+                new Enum("MT-GUZO", INT_MT_GUZO),
+                new Enum("MT-HANS", INT_MT_HANS),
+                new Enum("MT-HAWT", INT_MT_HAWT),
+                new Enum("MT-HD", INT_MT_HD),
+                new Enum("MT-HEAL", INT_MT_HEAL),
+                new Enum("MT-HEAT", INT_MT_HEAT),
+                new Enum("MT-HEIN", INT_MT_HEIN),
+                new Enum("MT-HERC", INT_MT_HERC),
+                new Enum("MT-HGON", INT_MT_HGON),
+                new Enum("MT-HIAW", INT_MT_HIAW),
+                new Enum("MT-HLDH", INT_MT_HLDH),
+                new Enum("MT-HMVE", INT_MT_HMVE),
+                new Enum("MT-HODA", INT_MT_HODA),
+                new Enum("MT-HOF", INT_MT_HOF),
+                new Enum("MT-HOMD", INT_MT_HOMD),
+                new Enum("MT-HOND", INT_MT_HOND),
+                new Enum("MT-HORX", INT_MT_HORX),
+                new Enum("MT-HRTR", INT_MT_HRTR),
+                new Enum("MT-HUFY", INT_MT_HUFY),
+                new Enum("MT-HUML", INT_MT_HUML),
+                new Enum("MT-HUSA", INT_MT_HUSA),
+                new Enum("MT-HUSK", INT_MT_HUSK),
+                new Enum("MT-HUSQ", INT_MT_HUSQ),
+                new Enum("MT-HYOS", INT_MT_HYOS),
+                new Enum("MT-IND", INT_MT_IND),
+                new Enum("MT-INDI", INT_MT_INDI),
+                new Enum("MT-INGL", INT_MT_INGL),
+                new Enum("MT-INMC", INT_MT_INMC),
+                new Enum("MT-ITAL", INT_MT_ITAL),
+                new Enum("MT-ITAT", INT_MT_ITAT),
+                new Enum("MT-ITAV", INT_MT_ITAV),
+                new Enum("MT-ITOM", INT_MT_ITOM),
+                new Enum("MT-JAMM", INT_MT_JAMM),
+                new Enum("MT-JAWA", INT_MT_JAWA),
+                new Enum("MT-JB", INT_MT_JB),
+                new Enum("MT-JEHM", INT_MT_JEHM),
+                new Enum("MT-JIAN", INT_MT_JIAN),
+                new Enum("MT-JINS", INT_MT_JINS),
+                new Enum("MT-JMCY", INT_MT_JMCY),
+                new Enum("MT-JMS", INT_MT_JMS),
+                new Enum("MT-JOLI", INT_MT_JOLI),
+                new Enum("MT-JPTR", INT_MT_JPTR),
+                new Enum("MT-JUIL", INT_MT_JUIL),
+                new Enum("MT-KAM", INT_MT_KAM),
+                new Enum("MT-KAMI", INT_MT_KAMI),
+                new Enum("MT-KANN", INT_MT_KANN),
+                new Enum("MT-KAWK", INT_MT_KAWK),
+                new Enum("MT-KAZU", INT_MT_KAZU),
+                new Enum("MT-KCCF", INT_MT_KCCF),
+                new Enum("MT-KENY", INT_MT_KENY),
+                new Enum("MT-KITK", INT_MT_KITK),
+                new Enum("MT-KMSR", INT_MT_KMSR),
+                new Enum("MT-KNBR", INT_MT_KNBR),
+                new Enum("MT-KNTC", INT_MT_KNTC),
+                new Enum("MT-KOMR", INT_MT_KOMR),
+                new Enum("MT-KRDL", INT_MT_KRDL),
+                new Enum("MT-KROM", INT_MT_KROM),
+                new Enum("MT-KSEA", INT_MT_KSEA),
+                new Enum("MT-KTM", INT_MT_KTM),
+                new Enum("MT-KYMC", INT_MT_KYMC),
+                new Enum("MT-LAMB", INT_MT_LAMB),
+                new Enum("MT-LANR", INT_MT_LANR),
+                new Enum("MT-LAVE", INT_MT_LAVE),
+                new Enum("MT-LAZE", INT_MT_LAZE),
+                new Enum("MT-LCHG", INT_MT_LCHG),
+                new Enum("MT-LECT", INT_MT_LECT),
+                new Enum("MT-LEKT", INT_MT_LEKT),
+                new Enum("MT-LEM", INT_MT_LEM),
+                new Enum("MT-LEVI", INT_MT_LEVI),
+                new Enum("MT-LILA", INT_MT_LILA),
+                new Enum("MT-LILN", INT_MT_LILN),
+                new Enum("MT-LINH", INT_MT_LINH),
+                new Enum("MT-LOM", INT_MT_LOM),
+                new Enum("MT-LUKY", INT_MT_LUKY),
+                new Enum("MT-LYMA", INT_MT_LYMA),
+                new Enum("MT-MADM", INT_MT_MADM),
+                new Enum("MT-MAIC", INT_MT_MAIC),
+                new Enum("MT-MALA", INT_MT_MALA),
+                new Enum("MT-MALN", INT_MT_MALN),
+                new Enum("MT-MALY", INT_MT_MALY),
+                new Enum("MT-MANC", INT_MT_MANC),
+                new Enum("MT-MANE", INT_MT_MANE),
+                new Enum("MT-MARU", INT_MT_MARU),
+                new Enum("MT-MASY", INT_MT_MASY),
+                new Enum("MT-MATR", INT_MT_MATR),
+                new Enum("MT-MAV", INT_MT_MAV),
+                new Enum("MT-MBEE", INT_MT_MBEE),
+                new Enum("MT-MDS", INT_MT_MDS),
+                new Enum("MT-MEIT", INT_MT_MEIT),
+                new Enum("MT-MINI", INT_MT_MINI),
+                new Enum("MT-MINN", INT_MT_MINN),
+                new Enum("MT-MMCL", INT_MT_MMCL),
+                new Enum("MT-MNAR", INT_MT_MNAR),
+                new Enum("MT-MNRK", INT_MT_MNRK),
+                new Enum("MT-MNSN", INT_MT_MNSN),
+                new Enum("MT-MOBE", INT_MT_MOBE),
+                new Enum("MT-MOBI", INT_MT_MOBI),
+                new Enum("MT-MOCR", INT_MT_MOCR),
+                new Enum("MT-MOCY", INT_MT_MOCY),
+                new Enum("MT-MOGU", INT_MT_MOGU),
+                new Enum("MT-MOJA", INT_MT_MOJA),
+                new Enum("MT-MOMO", INT_MT_MOMO),
+                new Enum("MT-MOND", INT_MT_MOND),
+                new Enum("MT-MONT", INT_MT_MONT),
+                new Enum("MT-MORU", INT_MT_MORU),
+                new Enum("MT-MOTB", INT_MT_MOTB),
+                new Enum("MT-MOTM", INT_MT_MOTM),
+                new Enum("MT-MOTN", INT_MT_MOTN),
+                new Enum("MT-MOTS", INT_MT_MOTS),
+                new Enum("MT-MRCO", INT_MT_MRCO),
+                new Enum("MT-MRTE", INT_MT_MRTE),
+                new Enum("MT-MTBE", INT_MT_MTBE),
+                new Enum("MT-MTCH", INT_MT_MTCH),
+                new Enum("MT-MTD", INT_MT_MTD),
+                new Enum("MT-MUHL", INT_MT_MUHL),
+                new Enum("MT-MURR", INT_MT_MURR),
+                new Enum("MT-MUST", INT_MT_MUST),
+                new Enum("MT-MVAU", INT_MT_MVAU),
+                new Enum("MT-MWCH", INT_MT_MWCH),
+                new Enum("MT-MZ", INT_MT_MZ),
+                new Enum("MT-NEGR", INT_MT_NEGR),
+                new Enum("MT-NEVM", INT_MT_NEVM),
+                new Enum("MT-NFLD", INT_MT_NFLD),
+                new Enum("MT-NORM", INT_MT_NORM),
+                new Enum("MT-NORT", INT_MT_NORT),
+                new Enum("MT-NSU", INT_MT_NSU),
+                new Enum("MT-NUON", INT_MT_NUON),
+                new Enum("MT-NVTA", INT_MT_NVTA),
+                new Enum("MT-ODSS", INT_MT_ODSS),
+                new Enum("MT-OMEG", INT_MT_OMEG),
+                new Enum("MT-OPL", INT_MT_OPL),
+                new Enum("MT-OSSA", INT_MT_OSSA),
+                new Enum("MT-OZBK", INT_MT_OZBK),
+                new Enum("MT-PACE", INT_MT_PACE),
+                new Enum("MT-PACS", INT_MT_PACS),
+                new Enum("MT-PAGS", INT_MT_PAGS),
+                new Enum("MT-PAIS", INT_MT_PAIS),
+                new Enum("MT-PAND", INT_MT_PAND),
+                new Enum("MT-PANN", INT_MT_PANN),
+                new Enum("MT-PANT", INT_MT_PANT),
+                new Enum("MT-PARI", INT_MT_PARI),
+                new Enum("MT-PAUG", INT_MT_PAUG),
+                new Enum("MT-PDRS", INT_MT_PDRS),
+                new Enum("MT-PDV", INT_MT_PDV),
+                new Enum("MT-PEDA", INT_MT_PEDA),
+                new Enum("MT-PEDD", INT_MT_PEDD),
+                new Enum("MT-PEGA", INT_MT_PEGA),
+                new Enum("MT-PENN", INT_MT_PENN),
+                new Enum("MT-PENT", INT_MT_PENT),
+                new Enum("MT-PEUG", INT_MT_PEUG),
+                new Enum("MT-PGSS", INT_MT_PGSS),
+                new Enum("MT-PHOE", INT_MT_PHOE),
+                new Enum("MT-PIAZ", INT_MT_PIAZ),
+                new Enum("MT-PINT", INT_MT_PINT),
+                new Enum("MT-PNTA", INT_MT_PNTA),
+                new Enum("MT-PNZR", INT_MT_PNZR),
+                new Enum("MT-POIN", INT_MT_POIN),
+                new Enum("MT-POLI", INT_MT_POLI),
+                new Enum("MT-POLS", INT_MT_POLS),
+                new Enum("MT-PONY", INT_MT_PONY),
+                new Enum("MT-POWL", INT_MT_POWL),
+                new Enum("MT-PRCW", INT_MT_PRCW),
+                new Enum("MT-PREM", INT_MT_PREM),
+                new Enum("MT-PRNE", INT_MT_PRNE),
+                new Enum("MT-PROG", INT_MT_PROG),
+                new Enum("MT-PROM", INT_MT_PROM),
+                new Enum("MT-PRYE", INT_MT_PRYE),
+                new Enum("MT-PSCC", INT_MT_PSCC),
+                new Enum("MT-PUCH", INT_MT_PUCH),
+                new Enum("MT-PWDY", INT_MT_PWDY),
+                new Enum("MT-QING", INT_MT_QING),
+                new Enum("MT-QINJ", INT_MT_QINJ),
+                new Enum("MT-RABB", INT_MT_RABB),
+                new Enum("MT-RABJ", INT_MT_RABJ),
+                new Enum("MT-RCCM", INT_MT_RCCM),
+                new Enum("MT-RDER", INT_MT_RDER),
+                new Enum("MT-RDLY", INT_MT_RDLY),
+                new Enum("MT-RECO", INT_MT_RECO),
+                new Enum("MT-RECR", INT_MT_RECR),
+                new Enum("MT-REDH", INT_MT_REDH),
+                new Enum("MT-REVN", INT_MT_REVN),
+                new Enum("MT-REX", INT_MT_REX),
+                new Enum("MT-RICK", INT_MT_RICK),
+                new Enum("MT-RIVI", INT_MT_RIVI),
+                new Enum("MT-RIVS", INT_MT_RIVS),
+                new Enum("MT-RKWL", INT_MT_RKWL),
+                new Enum("MT-ROCK", INT_MT_ROCK),
+                new Enum("MT-ROEN", INT_MT_ROEN),
+                new Enum("MT-ROKN", INT_MT_ROKN),
+                new Enum("MT-ROLL", INT_MT_ROLL),
+                new Enum("MT-ROLT", INT_MT_ROLT),
+                new Enum("MT-RORU", INT_MT_RORU),
+                new Enum("MT-RPTR", INT_MT_RPTR),
+                new Enum("MT-RRMM", INT_MT_RRMM),
+                new Enum("MT-RUMI", INT_MT_RUMI),
+                new Enum("MT-RUPP", INT_MT_RUPP),
+                new Enum("MT-RUTM", INT_MT_RUTM),
+                new Enum("MT-RUTT", INT_MT_RUTT),
+                new Enum("MT-SACH", INT_MT_SACH),
+                new Enum("MT-SAFA", INT_MT_SAFA),
+                new Enum("MT-SAFT", INT_MT_SAFT),
+                new Enum("MT-SALB", INT_MT_SALB),
+                new Enum("MT-SANT", INT_MT_SANT),
+                new Enum("MT-SARA", INT_MT_SARA),
+                new Enum("MT-SCAM", INT_MT_SCAM),
+                new Enum("MT-SCAT", INT_MT_SCAT),
+                new Enum("MT-SCOA", INT_MT_SCOA),
+                new Enum("MT-SCOR", INT_MT_SCOR),
+                new Enum("MT-SCOT", INT_MT_SCOT),
+                new Enum("MT-SEAG", INT_MT_SEAG),
+                new Enum("MT-SEAR", INT_MT_SEAR),
+                new Enum("MT-SECY", INT_MT_SECY),
+                new Enum("MT-SEXT", INT_MT_SEXT),
+                new Enum("MT-SFM", INT_MT_SFM),
+                new Enum("MT-SHJZ", INT_MT_SHJZ),
+                new Enum("MT-SHL", INT_MT_SHL),
+                new Enum("MT-SHRC", INT_MT_SHRC),
+                new Enum("MT-SILP", INT_MT_SILP),
+                new Enum("MT-SIMS", INT_MT_SIMS),
+                new Enum("MT-SKTM", INT_MT_SKTM),
+                new Enum("MT-SLEL", INT_MT_SLEL),
+                new Enum("MT-SMBT", INT_MT_SMBT),
+                new Enum("MT-SMIL", INT_MT_SMIL),
+                new Enum("MT-SMLX", INT_MT_SMLX),
+                new Enum("MT-SNDR", INT_MT_SNDR),
+                new Enum("MT-SNOC", INT_MT_SNOC),
+                new Enum("MT-SNOW", INT_MT_SNOW),
+                new Enum("MT-SNSA", INT_MT_SNSA),
+                new Enum("MT-SNTE", INT_MT_SNTE),
+                new Enum("MT-SOLO", INT_MT_SOLO),
+                new Enum("MT-SONI", INT_MT_SONI),
+                new Enum("MT-SPAR", INT_MT_SPAR),
+                new Enum("MT-SPBD", INT_MT_SPBD),
+                new Enum("MT-SPCY", INT_MT_SPCY),
+                new Enum("MT-SPEC", INT_MT_SPEC),
+                new Enum("MT-SPED", INT_MT_SPED),
+                new Enum("MT-SPEG", INT_MT_SPEG),
+                new Enum("MT-SPNT", INT_MT_SPNT),
+                new Enum("MT-SPOR", INT_MT_SPOR),
+                new Enum("MT-SPRD", INT_MT_SPRD),
+                new Enum("MT-SPRE", INT_MT_SPRE),
+                new Enum("MT-SPWY", INT_MT_SPWY),
+                new Enum("MT-SUFL", INT_MT_SUFL),
+                new Enum("MT-SUN", INT_MT_SUN),
+                new Enum("MT-SUNB", INT_MT_SUNB),
+                new Enum("MT-SUVE", INT_MT_SUVE),
+                new Enum("MT-SUZI", INT_MT_SUZI),
+                new Enum("MT-SWIF", INT_MT_SWIF),
+                new Enum("MT-SWIT", INT_MT_SWIT),
+                new Enum("MT-SWM", INT_MT_SWM),
+                new Enum("MT-TACQ", INT_MT_TACQ),
+                new Enum("MT-TAIZ", INT_MT_TAIZ),
+                new Enum("MT-TAKA", INT_MT_TAKA),
+                new Enum("MT-TALG", INT_MT_TALG),
+                new Enum("MT-TECU", INT_MT_TECU),
+                new Enum("MT-TEMP", INT_MT_TEMP),
+                new Enum("MT-TESI", INT_MT_TESI),
+                new Enum("MT-TG", INT_MT_TG),
+                new Enum("MT-THPN", INT_MT_THPN),
+                new Enum("MT-TITN", INT_MT_TITN),
+                new Enum("MT-TMCC", INT_MT_TMCC),
+                new Enum("MT-TOHA", INT_MT_TOHA),
+                new Enum("MT-TOMO", INT_MT_TOMO),
+                new Enum("MT-TORA", INT_MT_TORA),
+                new Enum("MT-TORR", INT_MT_TORR),
+                new Enum("MT-TOWR", INT_MT_TOWR),
+                new Enum("MT-TRBO", INT_MT_TRBO),
+                new Enum("MT-TRBR", INT_MT_TRBR),
+                new Enum("MT-TRBZ", INT_MT_TRBZ),
+                new Enum("MT-TRDD", INT_MT_TRDD),
+                new Enum("MT-TRFL", INT_MT_TRFL),
+                new Enum("MT-TRHK", INT_MT_TRHK),
+                new Enum("MT-TRHO", INT_MT_TRHO),
+                new Enum("MT-TRIH", INT_MT_TRIH),
+                new Enum("MT-TRIK", INT_MT_TRIK),
+                new Enum("MT-TRPT", INT_MT_TRPT),
+                new Enum("MT-TRRD", INT_MT_TRRD),
+                new Enum("MT-TRSP", INT_MT_TRSP),
+                new Enum("MT-TRTR", INT_MT_TRTR),
+                new Enum("MT-TRUM", INT_MT_TRUM),
+                new Enum("MT-TRVS", INT_MT_TRVS),
+                new Enum("MT-TSSY", INT_MT_TSSY),
+                new Enum("MT-TUTR", INT_MT_TUTR),
+                new Enum("MT-TWIS", INT_MT_TWIS),
+                new Enum("MT-TWN", INT_MT_TWN),
+                new Enum("MT-TWST", INT_MT_TWST),
+                new Enum("MT-TYAN", INT_MT_TYAN),
+                new Enum("MT-TYCO", INT_MT_TYCO),
+                new Enum("MT-ULAC", INT_MT_ULAC),
+                new Enum("MT-ULMC", INT_MT_ULMC),
+                new Enum("MT-ULTM", INT_MT_ULTM),
+                new Enum("MT-UNLI", INT_MT_UNLI),
+                new Enum("MT-URAL", INT_MT_URAL),
+                new Enum("MT-VALI", INT_MT_VALI),
+                new Enum("MT-VANV", INT_MT_VANV),
+                new Enum("MT-VATC", INT_MT_VATC),
+                new Enum("MT-VCTY", INT_MT_VCTY),
+                new Enum("MT-VEGL", INT_MT_VEGL),
+                new Enum("MT-VENU", INT_MT_VENU),
+                new Enum("MT-VESP", INT_MT_VESP),
+                new Enum("MT-VICT", INT_MT_VICT),
+                new Enum("MT-VILL", INT_MT_VILL),
+                new Enum("MT-VINC", INT_MT_VINC),
+                new Enum("MT-VLCN", INT_MT_VLCN),
+                new Enum("MT-VLCT", INT_MT_VLCT),
+                new Enum("MT-VNTO", INT_MT_VNTO),
+                new Enum("MT-VREN", INT_MT_VREN),
+                new Enum("MT-VTMT", INT_MT_VTMT),
+                new Enum("MT-WASP", INT_MT_WASP),
+                new Enum("MT-WAYN", INT_MT_WAYN),
+                new Enum("MT-WHIT", INT_MT_WHIT),
+                new Enum("MT-WHZR", INT_MT_WHZR),
+                new Enum("MT-WILD", INT_MT_WILD),
+                new Enum("MT-WILG", INT_MT_WILG),
+                new Enum("MT-WILS", INT_MT_WILS),
+                new Enum("MT-WSK", INT_MT_WSK),
+                new Enum("MT-WTSN", INT_MT_WTSN),
+                new Enum("MT-WWMC", INT_MT_WWMC),
+                new Enum("MT-XTRM", INT_MT_XTRM),
+                new Enum("MT-YAMA", INT_MT_YAMA),
+                new Enum("MT-YANK", INT_MT_YANK),
+                new Enum("MT-YENC", INT_MT_YENC),
+                new Enum("MT-ZHON", INT_MT_ZHON),
+                new Enum("MT-ZNEL", INT_MT_ZNEL),
+                new Enum("MT-ZOBO", INT_MT_ZOBO),
+                new Enum("MT-ZUND", INT_MT_ZUND),
+                new Enum("MTBE", INT_MTBE),
+                new Enum("MTCH", INT_MTCH),
+                new Enum("MTCI", INT_MTCI),
+                new Enum("MTD", INT_MTD),
+                new Enum("MTMV", INT_MTMV),
+                new Enum("MTPA", INT_MTPA),
+                new Enum("MTPI", INT_MTPI),
+                new Enum("MTRA", INT_MTRA),
+                new Enum("MTRY", INT_MTRY),
+                new Enum("MTTI", INT_MTTI),
+                new Enum("MUDC", INT_MUDC),
+                new Enum("MUHL", INT_MUHL),
+                new Enum("MULE", INT_MULE),
+                new Enum("MULL", INT_MULL),
+                new Enum("MULQ", INT_MULQ),
+                new Enum("MULT", INT_MULT),
+                new Enum("MUNC", INT_MUNC),
+                new Enum("MUNT", INT_MUNT),
+                new Enum("MURE", INT_MURE),
+                new Enum("MURM", INT_MURM),
+                new Enum("MURP", INT_MURP),
+                new Enum("MURR", INT_MURR),
+                new Enum("MURT", INT_MURT),
+                new Enum("MUSG", INT_MUSG),
+                new Enum("MUST", INT_MUST),
+                new Enum("MUVA", INT_MUVA),
+                new Enum("MVAU", INT_MVAU),
+                new Enum("MVEN", INT_MVEN),
+                new Enum("MWCH", INT_MWCH),
+                new Enum("MWGE", INT_MWGE),
+                new Enum("MWMC", INT_MWMC),
+                new Enum("MWST", INT_MWST),
+                new Enum("MXAT", INT_MXAT),
+                new Enum("MYCO", INT_MYCO),
+                new Enum("MYFA", INT_MYFA),
+                new Enum("MYWA", INT_MYWA),
+                new Enum("MZ", INT_MZ),
+                new Enum("MZMA", INT_MZMA),
+                new Enum("NABO", INT_NABO),
+                new Enum("NACR", INT_NACR),
+                new Enum("NAHE", INT_NAHE),
+                new Enum("NAMC", INT_NAMC),
+                new Enum("NAMO", INT_NAMO),
+                new Enum("NARD", INT_NARD),
+                new Enum("NASA", INT_NASA),
+                new Enum("NASH", INT_NASH),
+                new Enum("NASM", INT_NASM),
+                new Enum("NASU", INT_NASU),
+                new Enum("NATL", INT_NATL),
+                new Enum("NATW", INT_NATW),
+                new Enum("NAVI", INT_NAVI),
+                new Enum("NAVJ", INT_NAVJ),
+                new Enum("NBAY", INT_NBAY),
+                new Enum("NDMC", INT_NDMC),
+                new Enum("NEAL", INT_NEAL),
+                new Enum("NEBM", INT_NEBM),
+                new Enum("NECK", INT_NECK),
+                new Enum("NECT", INT_NECT),
+                new Enum("NEDL", INT_NEDL),
+                new Enum("NEGR", INT_NEGR),
+                new Enum("NEHO", INT_NEHO),
+                new Enum("NELL", INT_NELL),
+                new Enum("NELN", INT_NELN),
+                new Enum("NELS", INT_NELS),
+                new Enum("NEOP", INT_NEOP),
+                new Enum("NEOS", INT_NEOS),
+                new Enum("NEPT", INT_NEPT),
+                new Enum("NERC", INT_NERC),
+                new Enum("NEUF", INT_NEUF),
+                new Enum("NEVA", INT_NEVA),
+                new Enum("NEVD", INT_NEVD),
+                new Enum("NEVI", INT_NEVI),
+                new Enum("NEVL", INT_NEVL),
+                new Enum("NEVM", INT_NEVM),
+                new Enum("NEWC", INT_NEWC),
+                new Enum("NEWD", INT_NEWD),
+                new Enum("NEWE", INT_NEWE),
+                new Enum("NEWH", INT_NEWH),
+                new Enum("NEWI", INT_NEWI),
+                new Enum("NEWK", INT_NEWK),
+                new Enum("NEWL", INT_NEWL),
+                new Enum("NEWM", INT_NEWM),
+                new Enum("NEWN", INT_NEWN),
+                new Enum("NEWP", INT_NEWP),
+                new Enum("NEWS", INT_NEWS),
+                new Enum("NEWT", INT_NEWT),
+                new Enum("NFLD", INT_NFLD),
+                new Enum("NHYD", INT_NHYD),
+                new Enum("NIAG", INT_NIAG),
+                new Enum("NICE", INT_NICE),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlbeans307.MaxAllowedEnumType newValue(java.lang.Object obj) {
+          return (xmlbeans307.MaxAllowedEnumType) type.newValue( obj ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType newInstance() {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlbeans307.MaxAllowedEnumType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlbeans307.MaxAllowedEnumType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.MaxAllowedEnumType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.MaxAllowedEnumType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.MaxAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * XML Type:  MoreThanAllowedEnumType
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MoreThanAllowedEnumType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307;
+
+
+/**
+ * An XML MoreThanAllowedEnumType(@http://XMLBEANS-307).
+ *
+ * This is an atomic type that is a restriction of xmlbeans307.MoreThanAllowedEnumType.
+ */
+public interface MoreThanAllowedEnumType extends org.apache.xmlbeans.XmlToken
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MoreThanAllowedEnumType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sMISC").resolveHandle("morethanallowedenumtype5d8ftype");
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlbeans307.MoreThanAllowedEnumType newValue(java.lang.Object obj) {
+          return (xmlbeans307.MoreThanAllowedEnumType) type.newValue( obj ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType newInstance() {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlbeans307.MoreThanAllowedEnumType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.MoreThanAllowedEnumType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlbeans307.MoreThanAllowedEnumType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlbeans307.MoreThanAllowedEnumType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalMoreThanElement
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.GlobalMoreThanElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307.impl;
+/**
+ * A document containing one GlobalMoreThanElement(@http://XMLBEANS-307) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalMoreThanElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans307.GlobalMoreThanElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalMoreThanElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALMORETHANELEMENT$0 = 
+        new javax.xml.namespace.QName("http://XMLBEANS-307", "GlobalMoreThanElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2090230083:
+                if (name.equals(GLOBALMORETHANELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalMoreThanElement" element
+     */
+    public java.lang.String getGlobalMoreThanElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALMORETHANELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalMoreThanElement" element
+     */
+    public xmlbeans307.MoreThanAllowedEnumType xgetGlobalMoreThanElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans307.MoreThanAllowedEnumType target = null;
+            target = (xmlbeans307.MoreThanAllowedEnumType)get_store().find_element_user(GLOBALMORETHANELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalMoreThanElement" element
+     */
+    public void setGlobalMoreThanElement(java.lang.String globalMoreThanElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALMORETHANELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALMORETHANELEMENT$0);
+            }
+            target.setStringValue(globalMoreThanElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalMoreThanElement" element
+     */
+    public void xsetGlobalMoreThanElement(xmlbeans307.MoreThanAllowedEnumType globalMoreThanElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans307.MoreThanAllowedEnumType target = null;
+            target = (xmlbeans307.MoreThanAllowedEnumType)get_store().find_element_user(GLOBALMORETHANELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (xmlbeans307.MoreThanAllowedEnumType)get_store().add_element_user(GLOBALMORETHANELEMENT$0);
+            }
+            target.set(globalMoreThanElement);
+        }
+    }
+}
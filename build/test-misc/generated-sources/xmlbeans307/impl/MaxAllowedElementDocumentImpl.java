@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MaxAllowedElement
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MaxAllowedElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307.impl;
+/**
+ * A document containing one MaxAllowedElement(@http://XMLBEANS-307) element.
+ *
+ * This is a complex type.
+ */
+public class MaxAllowedElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans307.MaxAllowedElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxAllowedElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MAXALLOWEDELEMENT$0 = 
+        new javax.xml.namespace.QName("http://XMLBEANS-307", "MaxAllowedElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1109228184:
+                if (name.equals(MAXALLOWEDELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MaxAllowedElement" element
+     */
+    public xmlbeans307.MaxAllowedEnumType.Enum getMaxAllowedElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXALLOWEDELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (xmlbeans307.MaxAllowedEnumType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MaxAllowedElement" element
+     */
+    public xmlbeans307.MaxAllowedEnumType xgetMaxAllowedElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans307.MaxAllowedEnumType target = null;
+            target = (xmlbeans307.MaxAllowedEnumType)get_store().find_element_user(MAXALLOWEDELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MaxAllowedElement" element
+     */
+    public void setMaxAllowedElement(xmlbeans307.MaxAllowedEnumType.Enum maxAllowedElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXALLOWEDELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MAXALLOWEDELEMENT$0);
+            }
+            target.setEnumValue(maxAllowedElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MaxAllowedElement" element
+     */
+    public void xsetMaxAllowedElement(xmlbeans307.MaxAllowedEnumType maxAllowedElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans307.MaxAllowedEnumType target = null;
+            target = (xmlbeans307.MaxAllowedEnumType)get_store().find_element_user(MAXALLOWEDELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (xmlbeans307.MaxAllowedEnumType)get_store().add_element_user(MAXALLOWEDELEMENT$0);
+            }
+            target.set(maxAllowedElement);
+        }
+    }
+}
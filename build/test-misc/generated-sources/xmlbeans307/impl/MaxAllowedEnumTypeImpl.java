@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MaxAllowedEnumType
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MaxAllowedEnumType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307.impl;
+/**
+ * An XML MaxAllowedEnumType(@http://XMLBEANS-307).
+ *
+ * This is an atomic type that is a restriction of xmlbeans307.MaxAllowedEnumType.
+ */
+public class MaxAllowedEnumTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements xmlbeans307.MaxAllowedEnumType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxAllowedEnumTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MaxAllowedEnumTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  MoreThanAllowedComplexType
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MoreThanAllowedComplexType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307.impl;
+/**
+ * An XML MoreThanAllowedComplexType(@http://XMLBEANS-307).
+ *
+ * This is a complex type.
+ */
+public class MoreThanAllowedComplexTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans307.MoreThanAllowedComplexType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MoreThanAllowedComplexTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLESTRING$0 = 
+        new javax.xml.namespace.QName("http://XMLBEANS-307", "simpleString");
+    private static final javax.xml.namespace.QName COMPLEXTYPEMORETHANENUM$2 = 
+        new javax.xml.namespace.QName("http://XMLBEANS-307", "complexType_MoreThanEnum");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1377898397:
+                if (name.equals(SIMPLESTRING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -703453460:
+                if (name.equals(COMPLEXTYPEMORETHANENUM$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "simpleString" element
+     */
+    public java.lang.String getSimpleString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLESTRING$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "simpleString" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSimpleString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLESTRING$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "simpleString" element
+     */
+    public void setSimpleString(java.lang.String simpleString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLESTRING$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIMPLESTRING$0);
+            }
+            target.setStringValue(simpleString);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "simpleString" element
+     */
+    public void xsetSimpleString(org.apache.xmlbeans.XmlString simpleString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLESTRING$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SIMPLESTRING$0);
+            }
+            target.set(simpleString);
+        }
+    }
+    
+    /**
+     * Gets the "complexType_MoreThanEnum" element
+     */
+    public java.lang.String getComplexTypeMoreThanEnum()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMPLEXTYPEMORETHANENUM$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "complexType_MoreThanEnum" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComplexTypeMoreThanEnum()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMPLEXTYPEMORETHANENUM$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "complexType_MoreThanEnum" element
+     */
+    public void setComplexTypeMoreThanEnum(java.lang.String complexTypeMoreThanEnum)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMPLEXTYPEMORETHANENUM$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMPLEXTYPEMORETHANENUM$2);
+            }
+            target.setStringValue(complexTypeMoreThanEnum);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "complexType_MoreThanEnum" element
+     */
+    public void xsetComplexTypeMoreThanEnum(org.apache.xmlbeans.XmlString complexTypeMoreThanEnum)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMPLEXTYPEMORETHANENUM$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMPLEXTYPEMORETHANENUM$2);
+            }
+            target.set(complexTypeMoreThanEnum);
+        }
+    }
+}
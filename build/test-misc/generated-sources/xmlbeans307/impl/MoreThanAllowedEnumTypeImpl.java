@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MoreThanAllowedEnumType
+ * Namespace: http://XMLBEANS-307
+ * Java type: xmlbeans307.MoreThanAllowedEnumType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans307.impl;
+/**
+ * An XML MoreThanAllowedEnumType(@http://XMLBEANS-307).
+ *
+ * This is an atomic type that is a restriction of xmlbeans307.MoreThanAllowedEnumType.
+ */
+public class MoreThanAllowedEnumTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xmlbeans307.MoreThanAllowedEnumType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MoreThanAllowedEnumTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MoreThanAllowedEnumTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
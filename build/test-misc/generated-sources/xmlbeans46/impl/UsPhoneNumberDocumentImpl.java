@@ -0,0 +1,128 @@
+/*
+ * An XML document type.
+ * Localname: usPhoneNumber
+ * Namespace: http://xmlbeans_46
+ * Java type: xmlbeans46.UsPhoneNumberDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans46.impl;
+/**
+ * A document containing one usPhoneNumber(@http://xmlbeans_46) element.
+ *
+ * This is a complex type.
+ */
+public class UsPhoneNumberDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans46.UsPhoneNumberDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UsPhoneNumberDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName USPHONENUMBER$0 = 
+        new javax.xml.namespace.QName("http://xmlbeans_46", "usPhoneNumber");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1828870951:
+                if (name.equals(USPHONENUMBER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "usPhoneNumber" element
+     */
+    public java.lang.String getUsPhoneNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPHONENUMBER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "usPhoneNumber" element
+     */
+    public xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber xgetUsPhoneNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber target = null;
+            target = (xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber)get_store().find_element_user(USPHONENUMBER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "usPhoneNumber" element
+     */
+    public void setUsPhoneNumber(java.lang.String usPhoneNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPHONENUMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(USPHONENUMBER$0);
+            }
+            target.setStringValue(usPhoneNumber);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "usPhoneNumber" element
+     */
+    public void xsetUsPhoneNumber(xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber usPhoneNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber target = null;
+            target = (xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber)get_store().find_element_user(USPHONENUMBER$0, 0);
+            if (target == null)
+            {
+                target = (xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber)get_store().add_element_user(USPHONENUMBER$0);
+            }
+            target.set(usPhoneNumber);
+        }
+    }
+    /**
+     * An XML usPhoneNumber(@http://xmlbeans_46).
+     *
+     * This is an atomic type that is a restriction of xmlbeans46.UsPhoneNumberDocument$UsPhoneNumber.
+     */
+    public static class UsPhoneNumberImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xmlbeans46.UsPhoneNumberDocument.UsPhoneNumber
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public UsPhoneNumberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected UsPhoneNumberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Feed
+ * Namespace: http://xmlbeans_48
+ * Java type: xmlbeans48.FeedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans48.impl;
+/**
+ * A document containing one Feed(@http://xmlbeans_48) element.
+ *
+ * This is a complex type.
+ */
+public class FeedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans48.FeedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FeedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FEED$0 = 
+        new javax.xml.namespace.QName("http://xmlbeans_48", "Feed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2185662:
+                if (name.equals(FEED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Feed" element
+     */
+    public xmlbeans48.FeedInfoType getFeed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans48.FeedInfoType target = null;
+            target = (xmlbeans48.FeedInfoType)get_store().find_element_user(FEED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Feed" element
+     */
+    public void setFeed(xmlbeans48.FeedInfoType feed)
+    {
+        generatedSetterHelperImpl(feed, FEED$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Feed" element
+     */
+    public xmlbeans48.FeedInfoType addNewFeed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlbeans48.FeedInfoType target = null;
+            target = (xmlbeans48.FeedInfoType)get_store().add_element_user(FEED$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  FeedInfoType
+ * Namespace: http://xmlbeans_48
+ * Java type: xmlbeans48.FeedInfoType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlbeans48.impl;
+/**
+ * An XML FeedInfoType(@http://xmlbeans_48).
+ *
+ * This is a complex type.
+ */
+public class FeedInfoTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlbeans48.FeedInfoType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FeedInfoTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCATION$0 = 
+        new javax.xml.namespace.QName("http://xmlbeans_48", "Location");
+    private static final javax.xml.namespace.QName ENTEREDTIME$2 = 
+        new javax.xml.namespace.QName("http://xmlbeans_48", "EnteredTime");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2070636348:
+                if (name.equals(ENTEREDTIME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1965687765:
+                if (name.equals(LOCATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Location" element
+     */
+    public java.lang.String getLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Location" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(LOCATION$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Location" element
+     */
+    public void setLocation(java.lang.String location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCATION$0);
+            }
+            target.setStringValue(location);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Location" element
+     */
+    public void xsetLocation(org.apache.xmlbeans.XmlAnyURI location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(LOCATION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_element_user(LOCATION$0);
+            }
+            target.set(location);
+        }
+    }
+    
+    /**
+     * Gets the "EnteredTime" element
+     */
+    public java.util.Calendar getEnteredTime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENTEREDTIME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EnteredTime" element
+     */
+    public org.apache.xmlbeans.XmlDateTime xgetEnteredTime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(ENTEREDTIME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EnteredTime" element
+     */
+    public void setEnteredTime(java.util.Calendar enteredTime)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENTEREDTIME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENTEREDTIME$2);
+            }
+            target.setCalendarValue(enteredTime);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EnteredTime" element
+     */
+    public void xsetEnteredTime(org.apache.xmlbeans.XmlDateTime enteredTime)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(ENTEREDTIME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(ENTEREDTIME$2);
+            }
+            target.set(enteredTime);
+        }
+    }
+}
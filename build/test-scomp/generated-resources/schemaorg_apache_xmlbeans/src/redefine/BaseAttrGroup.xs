@@ -0,0 +1,10 @@
+<xs:schema
+    xmlns:xs="http://www.w3.org/2001/XMLSchema"
+    >
+
+   <xs:attributeGroup name="AttrGroup">
+       <xs:attribute name="attr1" type="xs:string"/>
+        <xs:attribute name="attr2" type="xs:int"/>
+        <xs:attribute name="attr3" type="xs:string"/>
+   </xs:attributeGroup>
+</xs:schema>
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: NoNSAttr
+ * Namespace: 
+ * Java type: noNamespace.NoNSAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one NoNSAttr(@) attribute.
+ *
+ * This is a complex type.
+ */
+public interface NoNSAttrAttribute extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(NoNSAttrAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("nonsattrf9a2attrtypetype");
+    
+    /**
+     * Gets the "NoNSAttr" attribute
+     */
+    int getNoNSAttr();
+    
+    /**
+     * Gets (as xml) the "NoNSAttr" attribute
+     */
+    org.apache.xmlbeans.XmlInt xgetNoNSAttr();
+    
+    /**
+     * True if has "NoNSAttr" attribute
+     */
+    boolean isSetNoNSAttr();
+    
+    /**
+     * Sets the "NoNSAttr" attribute
+     */
+    void setNoNSAttr(int noNSAttr);
+    
+    /**
+     * Sets (as xml) the "NoNSAttr" attribute
+     */
+    void xsetNoNSAttr(org.apache.xmlbeans.XmlInt noNSAttr);
+    
+    /**
+     * Unsets the "NoNSAttr" attribute
+     */
+    void unsetNoNSAttr();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.NoNSAttrAttribute newInstance() {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.NoNSAttrAttribute parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.NoNSAttrAttribute parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.NoNSAttrAttribute parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.NoNSAttrAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.NoNSAttrAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.NoNSAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * An XML attribute type.
+ * Localname: NoNSAttr
+ * Namespace: 
+ * Java type: noNamespace.NoNSAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one NoNSAttr(@) attribute.
+ *
+ * This is a complex type.
+ */
+public class NoNSAttrAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.NoNSAttrAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NoNSAttrAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NONSATTR$0 = 
+        new javax.xml.namespace.QName("", "NoNSAttr");
+    
+    
+    /**
+     * Gets the "NoNSAttr" attribute
+     */
+    public int getNoNSAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(NONSATTR$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NONSATTR$0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NoNSAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetNoNSAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(NONSATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "NoNSAttr" attribute
+     */
+    public boolean isSetNoNSAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NONSATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "NoNSAttr" attribute
+     */
+    public void setNoNSAttr(int noNSAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NONSATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NONSATTR$0);
+            }
+            target.setIntValue(noNSAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NoNSAttr" attribute
+     */
+    public void xsetNoNSAttr(org.apache.xmlbeans.XmlInt noNSAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(NONSATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(NONSATTR$0);
+            }
+            target.set(noNSAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "NoNSAttr" attribute
+     */
+    public void unsetNoNSAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NONSATTR$0);
+        }
+    }
+}
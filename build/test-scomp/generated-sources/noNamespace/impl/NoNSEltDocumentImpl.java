@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: NoNSElt
+ * Namespace: 
+ * Java type: noNamespace.NoNSEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one NoNSElt(@) element.
+ *
+ * This is a complex type.
+ */
+public class NoNSEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.NoNSEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NoNSEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NONSELT$0 = 
+        new javax.xml.namespace.QName("", "NoNSElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -536744089:
+                if (name.equals(NONSELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NoNSElt" element
+     */
+    public int getNoNSElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(NONSELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONSELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NoNSElt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetNoNSElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(NONSELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NoNSElt" element
+     */
+    public void setNoNSElt(int noNSElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONSELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NONSELT$0);
+            }
+            target.setIntValue(noNSElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NoNSElt" element
+     */
+    public void xsetNoNSElt(org.apache.xmlbeans.XmlInt noNSElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(NONSELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(NONSELT$0);
+            }
+            target.set(noNSElt);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * An XML document type.
+ * Localname: AttGroupElt
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.AttGroupEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup;
+
+
+/**
+ * A document containing one AttGroupElt(@http://xbean/scomp/attribute/AttributeGroup) element.
+ *
+ * This is a complex type.
+ */
+public interface AttGroupEltDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttGroupEltDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("attgroupelt1c72doctype");
+    
+    /**
+     * Gets the "AttGroupElt" element
+     */
+    xbean.scomp.attribute.attributeGroup.GlobalT getAttGroupElt();
+    
+    /**
+     * Sets the "AttGroupElt" element
+     */
+    void setAttGroupElt(xbean.scomp.attribute.attributeGroup.GlobalT attGroupElt);
+    
+    /**
+     * Appends and returns a new empty "AttGroupElt" element
+     */
+    xbean.scomp.attribute.attributeGroup.GlobalT addNewAttGroupElt();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument newInstance() {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.AttGroupEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.AttGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: globalAttr
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup;
+
+
+/**
+ * A document containing one globalAttr(@http://xbean/scomp/attribute/AttributeGroup) attribute.
+ *
+ * This is a complex type.
+ */
+public interface GlobalAttrAttribute extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalAttrAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalattr2e5battrtypetype");
+    
+    /**
+     * Gets the "globalAttr" attribute
+     */
+    java.math.BigDecimal getGlobalAttr();
+    
+    /**
+     * Gets (as xml) the "globalAttr" attribute
+     */
+    org.apache.xmlbeans.XmlDecimal xgetGlobalAttr();
+    
+    /**
+     * True if has "globalAttr" attribute
+     */
+    boolean isSetGlobalAttr();
+    
+    /**
+     * Sets the "globalAttr" attribute
+     */
+    void setGlobalAttr(java.math.BigDecimal globalAttr);
+    
+    /**
+     * Sets (as xml) the "globalAttr" attribute
+     */
+    void xsetGlobalAttr(org.apache.xmlbeans.XmlDecimal globalAttr);
+    
+    /**
+     * Unsets the "globalAttr" attribute
+     */
+    void unsetGlobalAttr();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute newInstance() {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
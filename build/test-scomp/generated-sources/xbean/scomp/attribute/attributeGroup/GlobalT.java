@@ -0,0 +1,216 @@
+/*
+ * XML Type:  GlobalT
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.GlobalT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup;
+
+
+/**
+ * An XML GlobalT(@http://xbean/scomp/attribute/AttributeGroup).
+ *
+ * This is a complex type.
+ */
+public interface GlobalT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalt32a4type");
+    
+    /**
+     * Gets the "child1" element
+     */
+    org.apache.xmlbeans.XmlObject getChild1();
+    
+    /**
+     * True if has "child1" element
+     */
+    boolean isSetChild1();
+    
+    /**
+     * Sets the "child1" element
+     */
+    void setChild1(org.apache.xmlbeans.XmlObject child1);
+    
+    /**
+     * Appends and returns a new empty "child1" element
+     */
+    org.apache.xmlbeans.XmlObject addNewChild1();
+    
+    /**
+     * Unsets the "child1" element
+     */
+    void unsetChild1();
+    
+    /**
+     * Gets the "child2" element
+     */
+    org.apache.xmlbeans.XmlObject getChild2();
+    
+    /**
+     * Sets the "child2" element
+     */
+    void setChild2(org.apache.xmlbeans.XmlObject child2);
+    
+    /**
+     * Appends and returns a new empty "child2" element
+     */
+    org.apache.xmlbeans.XmlObject addNewChild2();
+    
+    /**
+     * Gets the "ID" attribute
+     */
+    java.lang.String getID();
+    
+    /**
+     * Gets (as xml) the "ID" attribute
+     */
+    org.apache.xmlbeans.XmlID xgetID();
+    
+    /**
+     * Sets the "ID" attribute
+     */
+    void setID(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "ID" attribute
+     */
+    void xsetID(org.apache.xmlbeans.XmlID id);
+    
+    /**
+     * Gets the "version" attribute
+     */
+    java.math.BigDecimal getVersion();
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    org.apache.xmlbeans.XmlDecimal xgetVersion();
+    
+    /**
+     * True if has "version" attribute
+     */
+    boolean isSetVersion();
+    
+    /**
+     * Sets the "version" attribute
+     */
+    void setVersion(java.math.BigDecimal version);
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    void xsetVersion(org.apache.xmlbeans.XmlDecimal version);
+    
+    /**
+     * Unsets the "version" attribute
+     */
+    void unsetVersion();
+    
+    /**
+     * Gets the "globalAttr" attribute
+     */
+    java.math.BigDecimal getGlobalAttr();
+    
+    /**
+     * Gets (as xml) the "globalAttr" attribute
+     */
+    org.apache.xmlbeans.XmlDecimal xgetGlobalAttr();
+    
+    /**
+     * True if has "globalAttr" attribute
+     */
+    boolean isSetGlobalAttr();
+    
+    /**
+     * Sets the "globalAttr" attribute
+     */
+    void setGlobalAttr(java.math.BigDecimal globalAttr);
+    
+    /**
+     * Sets (as xml) the "globalAttr" attribute
+     */
+    void xsetGlobalAttr(org.apache.xmlbeans.XmlDecimal globalAttr);
+    
+    /**
+     * Unsets the "globalAttr" attribute
+     */
+    void unsetGlobalAttr();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.attributeGroup.GlobalT newInstance() {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.attributeGroup.GlobalT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.attributeGroup.GlobalT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AttGroupElt
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.AttGroupEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup.impl;
+/**
+ * A document containing one AttGroupElt(@http://xbean/scomp/attribute/AttributeGroup) element.
+ *
+ * This is a complex type.
+ */
+public class AttGroupEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.attributeGroup.AttGroupEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttGroupEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTGROUPELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/AttributeGroup", "AttGroupElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -798790833:
+                if (name.equals(ATTGROUPELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttGroupElt" element
+     */
+    public xbean.scomp.attribute.attributeGroup.GlobalT getAttGroupElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.attributeGroup.GlobalT target = null;
+            target = (xbean.scomp.attribute.attributeGroup.GlobalT)get_store().find_element_user(ATTGROUPELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttGroupElt" element
+     */
+    public void setAttGroupElt(xbean.scomp.attribute.attributeGroup.GlobalT attGroupElt)
+    {
+        generatedSetterHelperImpl(attGroupElt, ATTGROUPELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttGroupElt" element
+     */
+    public xbean.scomp.attribute.attributeGroup.GlobalT addNewAttGroupElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.attributeGroup.GlobalT target = null;
+            target = (xbean.scomp.attribute.attributeGroup.GlobalT)get_store().add_element_user(ATTGROUPELT$0);
+            return target;
+        }
+    }
+}
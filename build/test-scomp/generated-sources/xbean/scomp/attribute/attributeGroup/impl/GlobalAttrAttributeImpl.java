@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: globalAttr
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup.impl;
+/**
+ * A document containing one globalAttr(@http://xbean/scomp/attribute/AttributeGroup) attribute.
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.attributeGroup.GlobalAttrAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALATTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/AttributeGroup", "globalAttr");
+    
+    
+    /**
+     * Gets the "globalAttr" attribute
+     */
+    public java.math.BigDecimal getGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GLOBALATTR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "globalAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(GLOBALATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "globalAttr" attribute
+     */
+    public boolean isSetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(GLOBALATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "globalAttr" attribute
+     */
+    public void setGlobalAttr(java.math.BigDecimal globalAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GLOBALATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(GLOBALATTR$0);
+            }
+            target.setBigDecimalValue(globalAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "globalAttr" attribute
+     */
+    public void xsetGlobalAttr(org.apache.xmlbeans.XmlDecimal globalAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(GLOBALATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_attribute_user(GLOBALATTR$0);
+            }
+            target.set(globalAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "globalAttr" attribute
+     */
+    public void unsetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(GLOBALATTR$0);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ * XML Type:  GlobalT
+ * Namespace: http://xbean/scomp/attribute/AttributeGroup
+ * Java type: xbean.scomp.attribute.attributeGroup.GlobalT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.attributeGroup.impl;
+/**
+ * An XML GlobalT(@http://xbean/scomp/attribute/AttributeGroup).
+ *
+ * This is a complex type.
+ */
+public class GlobalTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.attributeGroup.GlobalT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILD1$0 = 
+        new javax.xml.namespace.QName("", "child1");
+    private static final javax.xml.namespace.QName CHILD2$2 = 
+        new javax.xml.namespace.QName("", "child2");
+    private static final javax.xml.namespace.QName ID$4 = 
+        new javax.xml.namespace.QName("", "ID");
+    private static final javax.xml.namespace.QName VERSION$6 = 
+        new javax.xml.namespace.QName("", "version");
+    private static final javax.xml.namespace.QName GLOBALATTR$8 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/AttributeGroup", "globalAttr");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1361400171:
+                if (name.equals(CHILD1$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1361400170:
+                if (name.equals(CHILD2$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "child1" element
+     */
+    public org.apache.xmlbeans.XmlObject getChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "child1" element
+     */
+    public boolean isSetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CHILD1$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "child1" element
+     */
+    public void setChild1(org.apache.xmlbeans.XmlObject child1)
+    {
+        generatedSetterHelperImpl(child1, CHILD1$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "child1" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(CHILD1$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "child1" element
+     */
+    public void unsetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CHILD1$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "child2" element
+     */
+    public org.apache.xmlbeans.XmlObject getChild2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(CHILD2$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "child2" element
+     */
+    public void setChild2(org.apache.xmlbeans.XmlObject child2)
+    {
+        generatedSetterHelperImpl(child2, CHILD2$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "child2" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewChild2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(CHILD2$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "ID" attribute
+     */
+    public java.lang.String getID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ID" attribute
+     */
+    public org.apache.xmlbeans.XmlID xgetID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ID" attribute
+     */
+    public void setID(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$4);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ID" attribute
+     */
+    public void xsetID(org.apache.xmlbeans.XmlID id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID$4);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(VERSION$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "version" attribute
+     */
+    public boolean isSetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(VERSION$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$6);
+            }
+            target.setBigDecimalValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(org.apache.xmlbeans.XmlDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(VERSION$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_attribute_user(VERSION$6);
+            }
+            target.set(version);
+        }
+    }
+    
+    /**
+     * Unsets the "version" attribute
+     */
+    public void unsetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(VERSION$6);
+        }
+    }
+    
+    /**
+     * Gets the "globalAttr" attribute
+     */
+    public java.math.BigDecimal getGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GLOBALATTR$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "globalAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(GLOBALATTR$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "globalAttr" attribute
+     */
+    public boolean isSetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(GLOBALATTR$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "globalAttr" attribute
+     */
+    public void setGlobalAttr(java.math.BigDecimal globalAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GLOBALATTR$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(GLOBALATTR$8);
+            }
+            target.setBigDecimalValue(globalAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "globalAttr" attribute
+     */
+    public void xsetGlobalAttr(org.apache.xmlbeans.XmlDecimal globalAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_attribute_user(GLOBALATTR$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_attribute_user(GLOBALATTR$8);
+            }
+            target.set(globalAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "globalAttr" attribute
+     */
+    public void unsetGlobalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(GLOBALATTR$8);
+        }
+    }
+}
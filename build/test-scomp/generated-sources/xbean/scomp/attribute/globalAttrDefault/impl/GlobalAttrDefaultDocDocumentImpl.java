@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: GlobalAttrDefaultDoc
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrDefault
+ * Java type: xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultDocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrDefault.impl;
+/**
+ * A document containing one GlobalAttrDefaultDoc(@http://xbean/scomp/attribute/GlobalAttrDefault) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrDefaultDocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultDocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrDefaultDocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALATTRDEFAULTDOC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "GlobalAttrDefaultDoc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1428957867:
+                if (name.equals(GLOBALATTRDEFAULTDOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalAttrDefaultDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT getGlobalAttrDefaultDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT target = null;
+            target = (xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT)get_store().find_element_user(GLOBALATTRDEFAULTDOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalAttrDefaultDoc" element
+     */
+    public void setGlobalAttrDefaultDoc(xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT globalAttrDefaultDoc)
+    {
+        generatedSetterHelperImpl(globalAttrDefaultDoc, GLOBALATTRDEFAULTDOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GlobalAttrDefaultDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT addNewGlobalAttrDefaultDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT target = null;
+            target = (xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT)get_store().add_element_user(GLOBALATTRDEFAULTDOC$0);
+            return target;
+        }
+    }
+}
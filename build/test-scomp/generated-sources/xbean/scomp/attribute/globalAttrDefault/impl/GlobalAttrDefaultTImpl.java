@@ -0,0 +1,228 @@
+/*
+ * XML Type:  GlobalAttrDefaultT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrDefault
+ * Java type: xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrDefault.impl;
+/**
+ * An XML GlobalAttrDefaultT(@http://xbean/scomp/attribute/GlobalAttrDefault).
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrDefaultTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrDefault.GlobalAttrDefaultT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrDefaultTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattribute");
+    private static final javax.xml.namespace.QName TESTATTRIBUTEINT$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattributeInt");
+    
+    
+    /**
+     * Gets the "testattribute" attribute
+     */
+    public java.lang.String getTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTE$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(TESTATTRIBUTE$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattribute" attribute
+     */
+    public boolean isSetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattribute" attribute
+     */
+    public void setTestattribute(java.lang.String testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            }
+            target.setStringValue(testattribute);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattribute" attribute
+     */
+    public void xsetTestattribute(org.apache.xmlbeans.XmlString testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            }
+            target.set(testattribute);
+        }
+    }
+    
+    /**
+     * Unsets the "testattribute" attribute
+     */
+    public void unsetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTE$0);
+        }
+    }
+    
+    /**
+     * Gets the "testattributeInt" attribute
+     */
+    public java.math.BigInteger getTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTEINT$2);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeInt" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(TESTATTRIBUTEINT$2);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeInt" attribute
+     */
+    public boolean isSetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTEINT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeInt" attribute
+     */
+    public void setTestattributeInt(java.math.BigInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTEINT$2);
+            }
+            target.setBigIntegerValue(testattributeInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeInt" attribute
+     */
+    public void xsetTestattributeInt(org.apache.xmlbeans.XmlInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(TESTATTRIBUTEINT$2);
+            }
+            target.set(testattributeInt);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeInt" attribute
+     */
+    public void unsetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTEINT$2);
+        }
+    }
+}
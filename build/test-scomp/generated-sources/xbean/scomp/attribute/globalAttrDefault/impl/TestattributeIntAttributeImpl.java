@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: testattributeInt
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrDefault
+ * Java type: xbean.scomp.attribute.globalAttrDefault.TestattributeIntAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrDefault.impl;
+/**
+ * A document containing one testattributeInt(@http://xbean/scomp/attribute/GlobalAttrDefault) attribute.
+ *
+ * This is a complex type.
+ */
+public class TestattributeIntAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrDefault.TestattributeIntAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestattributeIntAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTEINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattributeInt");
+    
+    
+    /**
+     * Gets the "testattributeInt" attribute
+     */
+    public java.math.BigInteger getTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTEINT$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeInt" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(TESTATTRIBUTEINT$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeInt" attribute
+     */
+    public boolean isSetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTEINT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeInt" attribute
+     */
+    public void setTestattributeInt(java.math.BigInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTEINT$0);
+            }
+            target.setBigIntegerValue(testattributeInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeInt" attribute
+     */
+    public void xsetTestattributeInt(org.apache.xmlbeans.XmlInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(TESTATTRIBUTEINT$0);
+            }
+            target.set(testattributeInt);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeInt" attribute
+     */
+    public void unsetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTEINT$0);
+        }
+    }
+}
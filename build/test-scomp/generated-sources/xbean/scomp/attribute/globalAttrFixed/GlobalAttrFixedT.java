@@ -0,0 +1,156 @@
+/*
+ * XML Type:  GlobalAttrFixedT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrFixed
+ * Java type: xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrFixed;
+
+
+/**
+ * An XML GlobalAttrFixedT(@http://xbean/scomp/attribute/GlobalAttrFixed).
+ *
+ * This is a complex type.
+ */
+public interface GlobalAttrFixedT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalAttrFixedT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalattrfixedt61aatype");
+    
+    /**
+     * Gets the "testattributeStr" attribute
+     */
+    java.lang.String getTestattributeStr();
+    
+    /**
+     * Gets (as xml) the "testattributeStr" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetTestattributeStr();
+    
+    /**
+     * True if has "testattributeStr" attribute
+     */
+    boolean isSetTestattributeStr();
+    
+    /**
+     * Sets the "testattributeStr" attribute
+     */
+    void setTestattributeStr(java.lang.String testattributeStr);
+    
+    /**
+     * Sets (as xml) the "testattributeStr" attribute
+     */
+    void xsetTestattributeStr(org.apache.xmlbeans.XmlString testattributeStr);
+    
+    /**
+     * Unsets the "testattributeStr" attribute
+     */
+    void unsetTestattributeStr();
+    
+    /**
+     * Gets the "testattributeInt" attribute
+     */
+    java.math.BigInteger getTestattributeInt();
+    
+    /**
+     * Gets (as xml) the "testattributeInt" attribute
+     */
+    org.apache.xmlbeans.XmlInteger xgetTestattributeInt();
+    
+    /**
+     * True if has "testattributeInt" attribute
+     */
+    boolean isSetTestattributeInt();
+    
+    /**
+     * Sets the "testattributeInt" attribute
+     */
+    void setTestattributeInt(java.math.BigInteger testattributeInt);
+    
+    /**
+     * Sets (as xml) the "testattributeInt" attribute
+     */
+    void xsetTestattributeInt(org.apache.xmlbeans.XmlInteger testattributeInt);
+    
+    /**
+     * Unsets the "testattributeInt" attribute
+     */
+    void unsetTestattributeInt();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT newInstance() {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: GlobalAttrFixedDoc
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrFixed
+ * Java type: xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedDocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrFixed.impl;
+/**
+ * A document containing one GlobalAttrFixedDoc(@http://xbean/scomp/attribute/GlobalAttrFixed) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrFixedDocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedDocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrFixedDocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALATTRFIXEDDOC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrFixed", "GlobalAttrFixedDoc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 78509464:
+                if (name.equals(GLOBALATTRFIXEDDOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalAttrFixedDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT getGlobalAttrFixedDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT target = null;
+            target = (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT)get_store().find_element_user(GLOBALATTRFIXEDDOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalAttrFixedDoc" element
+     */
+    public void setGlobalAttrFixedDoc(xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT globalAttrFixedDoc)
+    {
+        generatedSetterHelperImpl(globalAttrFixedDoc, GLOBALATTRFIXEDDOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GlobalAttrFixedDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT addNewGlobalAttrFixedDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT target = null;
+            target = (xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT)get_store().add_element_user(GLOBALATTRFIXEDDOC$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * XML Type:  GlobalAttrFixedT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrFixed
+ * Java type: xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrFixed.impl;
+/**
+ * An XML GlobalAttrFixedT(@http://xbean/scomp/attribute/GlobalAttrFixed).
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrFixedTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrFixed.GlobalAttrFixedT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrFixedTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTESTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrFixed", "testattributeStr");
+    private static final javax.xml.namespace.QName TESTATTRIBUTEINT$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrFixed", "testattributeInt");
+    
+    
+    /**
+     * Gets the "testattributeStr" attribute
+     */
+    public java.lang.String getTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTESTR$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeStr" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(TESTATTRIBUTESTR$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeStr" attribute
+     */
+    public boolean isSetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTESTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeStr" attribute
+     */
+    public void setTestattributeStr(java.lang.String testattributeStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTESTR$0);
+            }
+            target.setStringValue(testattributeStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeStr" attribute
+     */
+    public void xsetTestattributeStr(org.apache.xmlbeans.XmlString testattributeStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTESTR$0);
+            }
+            target.set(testattributeStr);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeStr" attribute
+     */
+    public void unsetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTESTR$0);
+        }
+    }
+    
+    /**
+     * Gets the "testattributeInt" attribute
+     */
+    public java.math.BigInteger getTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTEINT$2);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeInt" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(TESTATTRIBUTEINT$2);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeInt" attribute
+     */
+    public boolean isSetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTEINT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeInt" attribute
+     */
+    public void setTestattributeInt(java.math.BigInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTEINT$2);
+            }
+            target.setBigIntegerValue(testattributeInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeInt" attribute
+     */
+    public void xsetTestattributeInt(org.apache.xmlbeans.XmlInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(TESTATTRIBUTEINT$2);
+            }
+            target.set(testattributeInt);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeInt" attribute
+     */
+    public void unsetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTEINT$2);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: testattributeStr
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrFixed
+ * Java type: xbean.scomp.attribute.globalAttrFixed.TestattributeStrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrFixed.impl;
+/**
+ * A document containing one testattributeStr(@http://xbean/scomp/attribute/GlobalAttrFixed) attribute.
+ *
+ * This is a complex type.
+ */
+public class TestattributeStrAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrFixed.TestattributeStrAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestattributeStrAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTESTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrFixed", "testattributeStr");
+    
+    
+    /**
+     * Gets the "testattributeStr" attribute
+     */
+    public java.lang.String getTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTESTR$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeStr" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(TESTATTRIBUTESTR$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeStr" attribute
+     */
+    public boolean isSetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTESTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeStr" attribute
+     */
+    public void setTestattributeStr(java.lang.String testattributeStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTESTR$0);
+            }
+            target.setStringValue(testattributeStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeStr" attribute
+     */
+    public void xsetTestattributeStr(org.apache.xmlbeans.XmlString testattributeStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTESTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTESTR$0);
+            }
+            target.set(testattributeStr);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeStr" attribute
+     */
+    public void unsetTestattributeStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTESTR$0);
+        }
+    }
+}
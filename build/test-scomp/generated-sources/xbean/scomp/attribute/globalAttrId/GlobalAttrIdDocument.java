@@ -0,0 +1,169 @@
+/*
+ * An XML document type.
+ * Localname: GlobalAttrId
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrId
+ * Java type: xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrId;
+
+
+/**
+ * A document containing one GlobalAttrId(@http://xbean/scomp/attribute/GlobalAttrId) element.
+ *
+ * This is a complex type.
+ */
+public interface GlobalAttrIdDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalAttrIdDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalattrid8330doctype");
+    
+    /**
+     * Gets the "GlobalAttrId" element
+     */
+    xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId getGlobalAttrId();
+    
+    /**
+     * Sets the "GlobalAttrId" element
+     */
+    void setGlobalAttrId(xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId globalAttrId);
+    
+    /**
+     * Appends and returns a new empty "GlobalAttrId" element
+     */
+    xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId addNewGlobalAttrId();
+    
+    /**
+     * An XML GlobalAttrId(@http://xbean/scomp/attribute/GlobalAttrId).
+     *
+     * This is a complex type.
+     */
+    public interface GlobalAttrId extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalAttrId.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalattrid3865elemtype");
+        
+        /**
+         * Gets the "IDElement" element
+         */
+        xbean.scomp.attribute.globalAttrId.GlobalAttrIdT getIDElement();
+        
+        /**
+         * Sets the "IDElement" element
+         */
+        void setIDElement(xbean.scomp.attribute.globalAttrId.GlobalAttrIdT idElement);
+        
+        /**
+         * Appends and returns a new empty "IDElement" element
+         */
+        xbean.scomp.attribute.globalAttrId.GlobalAttrIdT addNewIDElement();
+        
+        /**
+         * Gets the "IDRefElement" element
+         */
+        xbean.scomp.attribute.globalAttrId.IDRefT getIDRefElement();
+        
+        /**
+         * Sets the "IDRefElement" element
+         */
+        void setIDRefElement(xbean.scomp.attribute.globalAttrId.IDRefT idRefElement);
+        
+        /**
+         * Appends and returns a new empty "IDRefElement" element
+         */
+        xbean.scomp.attribute.globalAttrId.IDRefT addNewIDRefElement();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId newInstance() {
+              return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument newInstance() {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
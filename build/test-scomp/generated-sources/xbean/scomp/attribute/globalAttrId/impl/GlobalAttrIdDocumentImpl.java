@@ -0,0 +1,199 @@
+/*
+ * An XML document type.
+ * Localname: GlobalAttrId
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrId
+ * Java type: xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrId.impl;
+/**
+ * A document containing one GlobalAttrId(@http://xbean/scomp/attribute/GlobalAttrId) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrIdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrIdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALATTRID$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrId", "GlobalAttrId");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1010702193:
+                if (name.equals(GLOBALATTRID$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalAttrId" element
+     */
+    public xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId getGlobalAttrId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId target = null;
+            target = (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId)get_store().find_element_user(GLOBALATTRID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalAttrId" element
+     */
+    public void setGlobalAttrId(xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId globalAttrId)
+    {
+        generatedSetterHelperImpl(globalAttrId, GLOBALATTRID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GlobalAttrId" element
+     */
+    public xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId addNewGlobalAttrId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId target = null;
+            target = (xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId)get_store().add_element_user(GLOBALATTRID$0);
+            return target;
+        }
+    }
+    /**
+     * An XML GlobalAttrId(@http://xbean/scomp/attribute/GlobalAttrId).
+     *
+     * This is a complex type.
+     */
+    public static class GlobalAttrIdImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrId.GlobalAttrIdDocument.GlobalAttrId
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public GlobalAttrIdImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName IDELEMENT$0 = 
+            new javax.xml.namespace.QName("", "IDElement");
+        private static final javax.xml.namespace.QName IDREFELEMENT$2 = 
+            new javax.xml.namespace.QName("", "IDRefElement");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -546354847:
+                    if (name.equals(IDELEMENT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -524205468:
+                    if (name.equals(IDREFELEMENT$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "IDElement" element
+         */
+        public xbean.scomp.attribute.globalAttrId.GlobalAttrIdT getIDElement()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.attribute.globalAttrId.GlobalAttrIdT target = null;
+                target = (xbean.scomp.attribute.globalAttrId.GlobalAttrIdT)get_store().find_element_user(IDELEMENT$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "IDElement" element
+         */
+        public void setIDElement(xbean.scomp.attribute.globalAttrId.GlobalAttrIdT idElement)
+        {
+            generatedSetterHelperImpl(idElement, IDELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "IDElement" element
+         */
+        public xbean.scomp.attribute.globalAttrId.GlobalAttrIdT addNewIDElement()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.attribute.globalAttrId.GlobalAttrIdT target = null;
+                target = (xbean.scomp.attribute.globalAttrId.GlobalAttrIdT)get_store().add_element_user(IDELEMENT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "IDRefElement" element
+         */
+        public xbean.scomp.attribute.globalAttrId.IDRefT getIDRefElement()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.attribute.globalAttrId.IDRefT target = null;
+                target = (xbean.scomp.attribute.globalAttrId.IDRefT)get_store().find_element_user(IDREFELEMENT$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "IDRefElement" element
+         */
+        public void setIDRefElement(xbean.scomp.attribute.globalAttrId.IDRefT idRefElement)
+        {
+            generatedSetterHelperImpl(idRefElement, IDREFELEMENT$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "IDRefElement" element
+         */
+        public xbean.scomp.attribute.globalAttrId.IDRefT addNewIDRefElement()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.attribute.globalAttrId.IDRefT target = null;
+                target = (xbean.scomp.attribute.globalAttrId.IDRefT)get_store().add_element_user(IDREFELEMENT$2);
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * XML Type:  GlobalAttrIdT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrId
+ * Java type: xbean.scomp.attribute.globalAttrId.GlobalAttrIdT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrId.impl;
+/**
+ * An XML GlobalAttrIdT(@http://xbean/scomp/attribute/GlobalAttrId).
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrIdTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrId.GlobalAttrIdT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrIdTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID1$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrId", "id1");
+    
+    
+    /**
+     * Gets the "id1" attribute
+     */
+    public java.lang.String getId1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID1$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id1" attribute
+     */
+    public org.apache.xmlbeans.XmlID xgetId1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID1$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id1" attribute
+     */
+    public boolean isSetId1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID1$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id1" attribute
+     */
+    public void setId1(java.lang.String id1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID1$0);
+            }
+            target.setStringValue(id1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id1" attribute
+     */
+    public void xsetId1(org.apache.xmlbeans.XmlID id1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID1$0);
+            }
+            target.set(id1);
+        }
+    }
+    
+    /**
+     * Unsets the "id1" attribute
+     */
+    public void unsetId1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID1$0);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * XML Type:  IDRefT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrId
+ * Java type: xbean.scomp.attribute.globalAttrId.IDRefT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrId.impl;
+/**
+ * An XML IDRefT(@http://xbean/scomp/attribute/GlobalAttrId).
+ *
+ * This is a complex type.
+ */
+public class IDRefTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrId.IDRefT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IDRefTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName IDREF1$0 = 
+        new javax.xml.namespace.QName("", "idref1");
+    
+    
+    /**
+     * Gets the "idref1" attribute
+     */
+    public java.lang.String getIdref1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(IDREF1$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "idref1" attribute
+     */
+    public org.apache.xmlbeans.XmlIDREF xgetIdref1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlIDREF target = null;
+            target = (org.apache.xmlbeans.XmlIDREF)get_store().find_attribute_user(IDREF1$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "idref1" attribute
+     */
+    public boolean isSetIdref1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(IDREF1$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "idref1" attribute
+     */
+    public void setIdref1(java.lang.String idref1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(IDREF1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(IDREF1$0);
+            }
+            target.setStringValue(idref1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "idref1" attribute
+     */
+    public void xsetIdref1(org.apache.xmlbeans.XmlIDREF idref1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlIDREF target = null;
+            target = (org.apache.xmlbeans.XmlIDREF)get_store().find_attribute_user(IDREF1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlIDREF)get_store().add_attribute_user(IDREF1$0);
+            }
+            target.set(idref1);
+        }
+    }
+    
+    /**
+     * Unsets the "idref1" attribute
+     */
+    public void unsetIdref1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(IDREF1$0);
+        }
+    }
+}
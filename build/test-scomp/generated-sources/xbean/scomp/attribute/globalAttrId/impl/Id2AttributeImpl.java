@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: id2
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrId
+ * Java type: xbean.scomp.attribute.globalAttrId.Id2Attribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrId.impl;
+/**
+ * A document containing one id2(@http://xbean/scomp/attribute/GlobalAttrId) attribute.
+ *
+ * This is a complex type.
+ */
+public class Id2AttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrId.Id2Attribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Id2AttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID2$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrId", "id2");
+    
+    
+    /**
+     * Gets the "id2" attribute
+     */
+    public java.lang.String getId2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID2$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id2" attribute
+     */
+    public org.apache.xmlbeans.XmlID xgetId2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID2$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id2" attribute
+     */
+    public boolean isSetId2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID2$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id2" attribute
+     */
+    public void setId2(java.lang.String id2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID2$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID2$0);
+            }
+            target.setStringValue(id2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id2" attribute
+     */
+    public void xsetId2(org.apache.xmlbeans.XmlID id2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlID target = null;
+            target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID2$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID2$0);
+            }
+            target.set(id2);
+        }
+    }
+    
+    /**
+     * Unsets the "id2" attribute
+     */
+    public void unsetId2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID2$0);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * XML Type:  GlobalAttrTypeT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType;
+
+
+/**
+ * An XML GlobalAttrTypeT(@http://xbean/scomp/attribute/GlobalAttrType).
+ *
+ * This is a complex type.
+ */
+public interface GlobalAttrTypeT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalAttrTypeT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globalattrtypetf3e4type");
+    
+    /**
+     * Gets the "attSimple" attribute
+     */
+    java.lang.String getAttSimple();
+    
+    /**
+     * Gets (as xml) the "attSimple" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetAttSimple();
+    
+    /**
+     * True if has "attSimple" attribute
+     */
+    boolean isSetAttSimple();
+    
+    /**
+     * Sets the "attSimple" attribute
+     */
+    void setAttSimple(java.lang.String attSimple);
+    
+    /**
+     * Sets (as xml) the "attSimple" attribute
+     */
+    void xsetAttSimple(org.apache.xmlbeans.XmlString attSimple);
+    
+    /**
+     * Unsets the "attSimple" attribute
+     */
+    void unsetAttSimple();
+    
+    /**
+     * Gets the "attAnonymous" attribute
+     */
+    java.math.BigInteger getAttAnonymous();
+    
+    /**
+     * Gets (as xml) the "attAnonymous" attribute
+     */
+    xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous xgetAttAnonymous();
+    
+    /**
+     * True if has "attAnonymous" attribute
+     */
+    boolean isSetAttAnonymous();
+    
+    /**
+     * Sets the "attAnonymous" attribute
+     */
+    void setAttAnonymous(java.math.BigInteger attAnonymous);
+    
+    /**
+     * Sets (as xml) the "attAnonymous" attribute
+     */
+    void xsetAttAnonymous(xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous attAnonymous);
+    
+    /**
+     * Unsets the "attAnonymous" attribute
+     */
+    void unsetAttAnonymous();
+    
+    /**
+     * Gets the "attAnyType" attribute
+     */
+    org.apache.xmlbeans.XmlAnySimpleType getAttAnyType();
+    
+    /**
+     * True if has "attAnyType" attribute
+     */
+    boolean isSetAttAnyType();
+    
+    /**
+     * Sets the "attAnyType" attribute
+     */
+    void setAttAnyType(org.apache.xmlbeans.XmlAnySimpleType attAnyType);
+    
+    /**
+     * Appends and returns a new empty "attAnyType" attribute
+     */
+    org.apache.xmlbeans.XmlAnySimpleType addNewAttAnyType();
+    
+    /**
+     * Unsets the "attAnyType" attribute
+     */
+    void unsetAttAnyType();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT newInstance() {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
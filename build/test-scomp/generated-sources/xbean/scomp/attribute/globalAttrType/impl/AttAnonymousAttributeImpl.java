@@ -0,0 +1,138 @@
+/*
+ * An XML attribute type.
+ * Localname: attAnonymous
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType.impl;
+/**
+ * A document containing one attAnonymous(@http://xbean/scomp/attribute/GlobalAttrType) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttAnonymousAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttAnonymousAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTANONYMOUS$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attAnonymous");
+    
+    
+    /**
+     * Gets the "attAnonymous" attribute
+     */
+    public java.math.BigInteger getAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTANONYMOUS$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attAnonymous" attribute
+     */
+    public xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous xgetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous target = null;
+            target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().find_attribute_user(ATTANONYMOUS$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attAnonymous" attribute
+     */
+    public boolean isSetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTANONYMOUS$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attAnonymous" attribute
+     */
+    public void setAttAnonymous(java.math.BigInteger attAnonymous)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTANONYMOUS$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTANONYMOUS$0);
+            }
+            target.setBigIntegerValue(attAnonymous);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attAnonymous" attribute
+     */
+    public void xsetAttAnonymous(xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous attAnonymous)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous target = null;
+            target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().find_attribute_user(ATTANONYMOUS$0);
+            if (target == null)
+            {
+                target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().add_attribute_user(ATTANONYMOUS$0);
+            }
+            target.set(attAnonymous);
+        }
+    }
+    
+    /**
+     * Unsets the "attAnonymous" attribute
+     */
+    public void unsetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTANONYMOUS$0);
+        }
+    }
+    /**
+     * An XML attAnonymous(@http://xbean/scomp/attribute/GlobalAttrType).
+     *
+     * This is an atomic type that is a restriction of xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute$AttAnonymous.
+     */
+    public static class AttAnonymousImpl extends org.apache.xmlbeans.impl.values.JavaIntegerHolderEx implements xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AttAnonymousImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected AttAnonymousImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
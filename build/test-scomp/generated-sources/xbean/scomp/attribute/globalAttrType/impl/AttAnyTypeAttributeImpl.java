@@ -0,0 +1,101 @@
+/*
+ * An XML attribute type.
+ * Localname: attAnyType
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.AttAnyTypeAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType.impl;
+/**
+ * A document containing one attAnyType(@http://xbean/scomp/attribute/GlobalAttrType) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttAnyTypeAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrType.AttAnyTypeAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttAnyTypeAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTANYTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attAnyType");
+    
+    
+    /**
+     * Gets the "attAnyType" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(ATTANYTYPE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attAnyType" attribute
+     */
+    public boolean isSetAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTANYTYPE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attAnyType" attribute
+     */
+    public void setAttAnyType(org.apache.xmlbeans.XmlAnySimpleType attAnyType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(ATTANYTYPE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(ATTANYTYPE$0);
+            }
+            target.set(attAnyType);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "attAnyType" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(ATTANYTYPE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "attAnyType" attribute
+     */
+    public void unsetAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTANYTYPE$0);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: attSimple
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.AttSimpleAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType.impl;
+/**
+ * A document containing one attSimple(@http://xbean/scomp/attribute/GlobalAttrType) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttSimpleAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrType.AttSimpleAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttSimpleAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTSIMPLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attSimple");
+    
+    
+    /**
+     * Gets the "attSimple" attribute
+     */
+    public java.lang.String getAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attSimple" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTSIMPLE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attSimple" attribute
+     */
+    public boolean isSetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTSIMPLE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attSimple" attribute
+     */
+    public void setAttSimple(java.lang.String attSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTSIMPLE$0);
+            }
+            target.setStringValue(attSimple);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attSimple" attribute
+     */
+    public void xsetAttSimple(org.apache.xmlbeans.XmlString attSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTSIMPLE$0);
+            }
+            target.set(attSimple);
+        }
+    }
+    
+    /**
+     * Unsets the "attSimple" attribute
+     */
+    public void unsetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTSIMPLE$0);
+        }
+    }
+}
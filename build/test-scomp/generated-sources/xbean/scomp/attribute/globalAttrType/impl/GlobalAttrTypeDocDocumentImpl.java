@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: GlobalAttrTypeDoc
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.GlobalAttrTypeDocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType.impl;
+/**
+ * A document containing one GlobalAttrTypeDoc(@http://xbean/scomp/attribute/GlobalAttrType) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrTypeDocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrType.GlobalAttrTypeDocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrTypeDocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALATTRTYPEDOC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "GlobalAttrTypeDoc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1253594966:
+                if (name.equals(GLOBALATTRTYPEDOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalAttrTypeDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT getGlobalAttrTypeDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT target = null;
+            target = (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT)get_store().find_element_user(GLOBALATTRTYPEDOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalAttrTypeDoc" element
+     */
+    public void setGlobalAttrTypeDoc(xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT globalAttrTypeDoc)
+    {
+        generatedSetterHelperImpl(globalAttrTypeDoc, GLOBALATTRTYPEDOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GlobalAttrTypeDoc" element
+     */
+    public xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT addNewGlobalAttrTypeDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT target = null;
+            target = (xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT)get_store().add_element_user(GLOBALATTRTYPEDOC$0);
+            return target;
+        }
+    }
+}
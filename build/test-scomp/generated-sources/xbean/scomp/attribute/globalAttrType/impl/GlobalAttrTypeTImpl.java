@@ -0,0 +1,288 @@
+/*
+ * XML Type:  GlobalAttrTypeT
+ * Namespace: http://xbean/scomp/attribute/GlobalAttrType
+ * Java type: xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.globalAttrType.impl;
+/**
+ * An XML GlobalAttrTypeT(@http://xbean/scomp/attribute/GlobalAttrType).
+ *
+ * This is a complex type.
+ */
+public class GlobalAttrTypeTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.globalAttrType.GlobalAttrTypeT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalAttrTypeTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTSIMPLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attSimple");
+    private static final javax.xml.namespace.QName ATTANONYMOUS$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attAnonymous");
+    private static final javax.xml.namespace.QName ATTANYTYPE$4 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrType", "attAnyType");
+    
+    
+    /**
+     * Gets the "attSimple" attribute
+     */
+    public java.lang.String getAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attSimple" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTSIMPLE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attSimple" attribute
+     */
+    public boolean isSetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTSIMPLE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attSimple" attribute
+     */
+    public void setAttSimple(java.lang.String attSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTSIMPLE$0);
+            }
+            target.setStringValue(attSimple);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attSimple" attribute
+     */
+    public void xsetAttSimple(org.apache.xmlbeans.XmlString attSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTSIMPLE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTSIMPLE$0);
+            }
+            target.set(attSimple);
+        }
+    }
+    
+    /**
+     * Unsets the "attSimple" attribute
+     */
+    public void unsetAttSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTSIMPLE$0);
+        }
+    }
+    
+    /**
+     * Gets the "attAnonymous" attribute
+     */
+    public java.math.BigInteger getAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTANONYMOUS$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attAnonymous" attribute
+     */
+    public xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous xgetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous target = null;
+            target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().find_attribute_user(ATTANONYMOUS$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attAnonymous" attribute
+     */
+    public boolean isSetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTANONYMOUS$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attAnonymous" attribute
+     */
+    public void setAttAnonymous(java.math.BigInteger attAnonymous)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTANONYMOUS$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTANONYMOUS$2);
+            }
+            target.setBigIntegerValue(attAnonymous);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attAnonymous" attribute
+     */
+    public void xsetAttAnonymous(xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous attAnonymous)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous target = null;
+            target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().find_attribute_user(ATTANONYMOUS$2);
+            if (target == null)
+            {
+                target = (xbean.scomp.attribute.globalAttrType.AttAnonymousAttribute.AttAnonymous)get_store().add_attribute_user(ATTANONYMOUS$2);
+            }
+            target.set(attAnonymous);
+        }
+    }
+    
+    /**
+     * Unsets the "attAnonymous" attribute
+     */
+    public void unsetAttAnonymous()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTANONYMOUS$2);
+        }
+    }
+    
+    /**
+     * Gets the "attAnyType" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(ATTANYTYPE$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attAnyType" attribute
+     */
+    public boolean isSetAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTANYTYPE$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attAnyType" attribute
+     */
+    public void setAttAnyType(org.apache.xmlbeans.XmlAnySimpleType attAnyType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(ATTANYTYPE$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(ATTANYTYPE$4);
+            }
+            target.set(attAnyType);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "attAnyType" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(ATTANYTYPE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "attAnyType" attribute
+     */
+    public void unsetAttAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTANYTYPE$4);
+        }
+    }
+}
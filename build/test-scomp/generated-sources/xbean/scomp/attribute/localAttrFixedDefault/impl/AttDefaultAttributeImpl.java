@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: attDefault
+ * Namespace: http://xbean/scomp/attribute/LocalAttrFixedDefault
+ * Java type: xbean.scomp.attribute.localAttrFixedDefault.AttDefaultAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrFixedDefault.impl;
+/**
+ * A document containing one attDefault(@http://xbean/scomp/attribute/LocalAttrFixedDefault) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttDefaultAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrFixedDefault.AttDefaultAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttDefaultAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTDEFAULT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrFixedDefault", "attDefault");
+    
+    
+    /**
+     * Gets the "attDefault" attribute
+     */
+    public java.math.BigInteger getAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTDEFAULT$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attDefault" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(ATTDEFAULT$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attDefault" attribute
+     */
+    public boolean isSetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTDEFAULT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attDefault" attribute
+     */
+    public void setAttDefault(java.math.BigInteger attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTDEFAULT$0);
+            }
+            target.setBigIntegerValue(attDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attDefault" attribute
+     */
+    public void xsetAttDefault(org.apache.xmlbeans.XmlInteger attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(ATTDEFAULT$0);
+            }
+            target.set(attDefault);
+        }
+    }
+    
+    /**
+     * Unsets the "attDefault" attribute
+     */
+    public void unsetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTDEFAULT$0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: attFixed
+ * Namespace: http://xbean/scomp/attribute/LocalAttrFixedDefault
+ * Java type: xbean.scomp.attribute.localAttrFixedDefault.AttFixedAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrFixedDefault.impl;
+/**
+ * A document containing one attFixed(@http://xbean/scomp/attribute/LocalAttrFixedDefault) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttFixedAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrFixedDefault.AttFixedAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttFixedAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTFIXED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrFixedDefault", "attFixed");
+    
+    
+    /**
+     * Gets the "attFixed" attribute
+     */
+    public java.lang.String getAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTFIXED$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attFixed" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(ATTFIXED$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attFixed" attribute
+     */
+    public boolean isSetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTFIXED$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attFixed" attribute
+     */
+    public void setAttFixed(java.lang.String attFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTFIXED$0);
+            }
+            target.setStringValue(attFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attFixed" attribute
+     */
+    public void xsetAttFixed(org.apache.xmlbeans.XmlString attFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTFIXED$0);
+            }
+            target.set(attFixed);
+        }
+    }
+    
+    /**
+     * Unsets the "attFixed" attribute
+     */
+    public void unsetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTFIXED$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: LocalAttrFixedDefault
+ * Namespace: http://xbean/scomp/attribute/LocalAttrFixedDefault
+ * Java type: xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrFixedDefault.impl;
+/**
+ * A document containing one LocalAttrFixedDefault(@http://xbean/scomp/attribute/LocalAttrFixedDefault) element.
+ *
+ * This is a complex type.
+ */
+public class LocalAttrFixedDefaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalAttrFixedDefaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALATTRFIXEDDEFAULT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrFixedDefault", "LocalAttrFixedDefault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1170605609:
+                if (name.equals(LOCALATTRFIXEDDEFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocalAttrFixedDefault" element
+     */
+    public xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT getLocalAttrFixedDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT target = null;
+            target = (xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT)get_store().find_element_user(LOCALATTRFIXEDDEFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocalAttrFixedDefault" element
+     */
+    public void setLocalAttrFixedDefault(xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT localAttrFixedDefault)
+    {
+        generatedSetterHelperImpl(localAttrFixedDefault, LOCALATTRFIXEDDEFAULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocalAttrFixedDefault" element
+     */
+    public xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT addNewLocalAttrFixedDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT target = null;
+            target = (xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT)get_store().add_element_user(LOCALATTRFIXEDDEFAULT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * XML Type:  LocalAttrFixedDefaultT
+ * Namespace: http://xbean/scomp/attribute/LocalAttrFixedDefault
+ * Java type: xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrFixedDefault.impl;
+/**
+ * An XML LocalAttrFixedDefaultT(@http://xbean/scomp/attribute/LocalAttrFixedDefault).
+ *
+ * This is a complex type.
+ */
+public class LocalAttrFixedDefaultTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrFixedDefault.LocalAttrFixedDefaultT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalAttrFixedDefaultTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTFIXED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrFixedDefault", "attFixed");
+    private static final javax.xml.namespace.QName ATTDEFAULT$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrFixedDefault", "attDefault");
+    
+    
+    /**
+     * Gets the "attFixed" attribute
+     */
+    public java.lang.String getAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTFIXED$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attFixed" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(ATTFIXED$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attFixed" attribute
+     */
+    public boolean isSetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTFIXED$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attFixed" attribute
+     */
+    public void setAttFixed(java.lang.String attFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTFIXED$0);
+            }
+            target.setStringValue(attFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attFixed" attribute
+     */
+    public void xsetAttFixed(org.apache.xmlbeans.XmlString attFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTFIXED$0);
+            }
+            target.set(attFixed);
+        }
+    }
+    
+    /**
+     * Unsets the "attFixed" attribute
+     */
+    public void unsetAttFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTFIXED$0);
+        }
+    }
+    
+    /**
+     * Gets the "attDefault" attribute
+     */
+    public java.math.BigInteger getAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTDEFAULT$2);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attDefault" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTDEFAULT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(ATTDEFAULT$2);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attDefault" attribute
+     */
+    public boolean isSetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTDEFAULT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attDefault" attribute
+     */
+    public void setAttDefault(java.math.BigInteger attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTDEFAULT$2);
+            }
+            target.setBigIntegerValue(attDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attDefault" attribute
+     */
+    public void xsetAttDefault(org.apache.xmlbeans.XmlInteger attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTDEFAULT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(ATTDEFAULT$2);
+            }
+            target.set(attDefault);
+        }
+    }
+    
+    /**
+     * Unsets the "attDefault" attribute
+     */
+    public void unsetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTDEFAULT$2);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * XML Type:  LocalAttrUseT
+ * Namespace: http://xbean/scomp/attribute/LocalAttrUse
+ * Java type: xbean.scomp.attribute.localAttrUse.LocalAttrUseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrUse;
+
+
+/**
+ * An XML LocalAttrUseT(@http://xbean/scomp/attribute/LocalAttrUse).
+ *
+ * This is a complex type.
+ */
+public interface LocalAttrUseT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LocalAttrUseT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("localattruset1304type");
+    
+    /**
+     * Gets the "attDefault" attribute
+     */
+    java.lang.String getAttDefault();
+    
+    /**
+     * Gets (as xml) the "attDefault" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetAttDefault();
+    
+    /**
+     * True if has "attDefault" attribute
+     */
+    boolean isSetAttDefault();
+    
+    /**
+     * Sets the "attDefault" attribute
+     */
+    void setAttDefault(java.lang.String attDefault);
+    
+    /**
+     * Sets (as xml) the "attDefault" attribute
+     */
+    void xsetAttDefault(org.apache.xmlbeans.XmlString attDefault);
+    
+    /**
+     * Unsets the "attDefault" attribute
+     */
+    void unsetAttDefault();
+    
+    /**
+     * Gets the "attOpt" attribute
+     */
+    java.lang.String getAttOpt();
+    
+    /**
+     * Gets (as xml) the "attOpt" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetAttOpt();
+    
+    /**
+     * True if has "attOpt" attribute
+     */
+    boolean isSetAttOpt();
+    
+    /**
+     * Sets the "attOpt" attribute
+     */
+    void setAttOpt(java.lang.String attOpt);
+    
+    /**
+     * Sets (as xml) the "attOpt" attribute
+     */
+    void xsetAttOpt(org.apache.xmlbeans.XmlString attOpt);
+    
+    /**
+     * Unsets the "attOpt" attribute
+     */
+    void unsetAttOpt();
+    
+    /**
+     * Gets the "lastPasswordUpdate" attribute
+     */
+    java.util.Calendar getLastPasswordUpdate();
+    
+    /**
+     * Gets (as xml) the "lastPasswordUpdate" attribute
+     */
+    org.apache.xmlbeans.XmlDateTime xgetLastPasswordUpdate();
+    
+    /**
+     * True if has "lastPasswordUpdate" attribute
+     */
+    boolean isSetLastPasswordUpdate();
+    
+    /**
+     * Sets the "lastPasswordUpdate" attribute
+     */
+    void setLastPasswordUpdate(java.util.Calendar lastPasswordUpdate);
+    
+    /**
+     * Sets (as xml) the "lastPasswordUpdate" attribute
+     */
+    void xsetLastPasswordUpdate(org.apache.xmlbeans.XmlDateTime lastPasswordUpdate);
+    
+    /**
+     * Unsets the "lastPasswordUpdate" attribute
+     */
+    void unsetLastPasswordUpdate();
+    
+    /**
+     * Gets the "attRequired" attribute
+     */
+    java.math.BigInteger getAttRequired();
+    
+    /**
+     * Gets (as xml) the "attRequired" attribute
+     */
+    org.apache.xmlbeans.XmlInteger xgetAttRequired();
+    
+    /**
+     * Sets the "attRequired" attribute
+     */
+    void setAttRequired(java.math.BigInteger attRequired);
+    
+    /**
+     * Sets (as xml) the "attRequired" attribute
+     */
+    void xsetAttRequired(org.apache.xmlbeans.XmlInteger attRequired);
+    
+    /**
+     * Gets the "attRequiredDefault" attribute
+     */
+    java.lang.String getAttRequiredDefault();
+    
+    /**
+     * Gets (as xml) the "attRequiredDefault" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetAttRequiredDefault();
+    
+    /**
+     * Sets the "attRequiredDefault" attribute
+     */
+    void setAttRequiredDefault(java.lang.String attRequiredDefault);
+    
+    /**
+     * Sets (as xml) the "attRequiredDefault" attribute
+     */
+    void xsetAttRequiredDefault(org.apache.xmlbeans.XmlString attRequiredDefault);
+    
+    /**
+     * Gets the "attRequiredFixed" attribute
+     */
+    java.lang.String getAttRequiredFixed();
+    
+    /**
+     * Gets (as xml) the "attRequiredFixed" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetAttRequiredFixed();
+    
+    /**
+     * Sets the "attRequiredFixed" attribute
+     */
+    void setAttRequiredFixed(java.lang.String attRequiredFixed);
+    
+    /**
+     * Sets (as xml) the "attRequiredFixed" attribute
+     */
+    void xsetAttRequiredFixed(org.apache.xmlbeans.XmlString attRequiredFixed);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT newInstance() {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.attribute.localAttrUse.LocalAttrUseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.attribute.localAttrUse.LocalAttrUseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
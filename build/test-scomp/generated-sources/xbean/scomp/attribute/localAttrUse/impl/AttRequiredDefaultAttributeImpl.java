@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: attRequiredDefault
+ * Namespace: http://xbean/scomp/attribute/LocalAttrUse
+ * Java type: xbean.scomp.attribute.localAttrUse.AttRequiredDefaultAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrUse.impl;
+/**
+ * A document containing one attRequiredDefault(@http://xbean/scomp/attribute/LocalAttrUse) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttRequiredDefaultAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrUse.AttRequiredDefaultAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttRequiredDefaultAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTREQUIREDDEFAULT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrUse", "attRequiredDefault");
+    
+    
+    /**
+     * Gets the "attRequiredDefault" attribute
+     */
+    public java.lang.String getAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTREQUIREDDEFAULT$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attRequiredDefault" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(ATTREQUIREDDEFAULT$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attRequiredDefault" attribute
+     */
+    public boolean isSetAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTREQUIREDDEFAULT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attRequiredDefault" attribute
+     */
+    public void setAttRequiredDefault(java.lang.String attRequiredDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTREQUIREDDEFAULT$0);
+            }
+            target.setStringValue(attRequiredDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attRequiredDefault" attribute
+     */
+    public void xsetAttRequiredDefault(org.apache.xmlbeans.XmlString attRequiredDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTREQUIREDDEFAULT$0);
+            }
+            target.set(attRequiredDefault);
+        }
+    }
+    
+    /**
+     * Unsets the "attRequiredDefault" attribute
+     */
+    public void unsetAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTREQUIREDDEFAULT$0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: attRequiredFixed
+ * Namespace: http://xbean/scomp/attribute/LocalAttrUse
+ * Java type: xbean.scomp.attribute.localAttrUse.AttRequiredFixedAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrUse.impl;
+/**
+ * A document containing one attRequiredFixed(@http://xbean/scomp/attribute/LocalAttrUse) attribute.
+ *
+ * This is a complex type.
+ */
+public class AttRequiredFixedAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrUse.AttRequiredFixedAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttRequiredFixedAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTREQUIREDFIXED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrUse", "attRequiredFixed");
+    
+    
+    /**
+     * Gets the "attRequiredFixed" attribute
+     */
+    public java.lang.String getAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTREQUIREDFIXED$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attRequiredFixed" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(ATTREQUIREDFIXED$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attRequiredFixed" attribute
+     */
+    public boolean isSetAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTREQUIREDFIXED$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attRequiredFixed" attribute
+     */
+    public void setAttRequiredFixed(java.lang.String attRequiredFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTREQUIREDFIXED$0);
+            }
+            target.setStringValue(attRequiredFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attRequiredFixed" attribute
+     */
+    public void xsetAttRequiredFixed(org.apache.xmlbeans.XmlString attRequiredFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDFIXED$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTREQUIREDFIXED$0);
+            }
+            target.set(attRequiredFixed);
+        }
+    }
+    
+    /**
+     * Unsets the "attRequiredFixed" attribute
+     */
+    public void unsetAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTREQUIREDFIXED$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: LocalAttrUseDoc
+ * Namespace: http://xbean/scomp/attribute/LocalAttrUse
+ * Java type: xbean.scomp.attribute.localAttrUse.LocalAttrUseDocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrUse.impl;
+/**
+ * A document containing one LocalAttrUseDoc(@http://xbean/scomp/attribute/LocalAttrUse) element.
+ *
+ * This is a complex type.
+ */
+public class LocalAttrUseDocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrUse.LocalAttrUseDocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalAttrUseDocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALATTRUSEDOC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrUse", "LocalAttrUseDoc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 25869613:
+                if (name.equals(LOCALATTRUSEDOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocalAttrUseDoc" element
+     */
+    public xbean.scomp.attribute.localAttrUse.LocalAttrUseT getLocalAttrUseDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.localAttrUse.LocalAttrUseT target = null;
+            target = (xbean.scomp.attribute.localAttrUse.LocalAttrUseT)get_store().find_element_user(LOCALATTRUSEDOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocalAttrUseDoc" element
+     */
+    public void setLocalAttrUseDoc(xbean.scomp.attribute.localAttrUse.LocalAttrUseT localAttrUseDoc)
+    {
+        generatedSetterHelperImpl(localAttrUseDoc, LOCALATTRUSEDOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocalAttrUseDoc" element
+     */
+    public xbean.scomp.attribute.localAttrUse.LocalAttrUseT addNewLocalAttrUseDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.attribute.localAttrUse.LocalAttrUseT target = null;
+            target = (xbean.scomp.attribute.localAttrUse.LocalAttrUseT)get_store().add_element_user(LOCALATTRUSEDOC$0);
+            return target;
+        }
+    }
+}
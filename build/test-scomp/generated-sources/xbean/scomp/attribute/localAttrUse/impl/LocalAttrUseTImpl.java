@@ -0,0 +1,524 @@
+/*
+ * XML Type:  LocalAttrUseT
+ * Namespace: http://xbean/scomp/attribute/LocalAttrUse
+ * Java type: xbean.scomp.attribute.localAttrUse.LocalAttrUseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.attribute.localAttrUse.impl;
+/**
+ * An XML LocalAttrUseT(@http://xbean/scomp/attribute/LocalAttrUse).
+ *
+ * This is a complex type.
+ */
+public class LocalAttrUseTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.attribute.localAttrUse.LocalAttrUseT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalAttrUseTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTDEFAULT$0 = 
+        new javax.xml.namespace.QName("", "attDefault");
+    private static final javax.xml.namespace.QName ATTOPT$2 = 
+        new javax.xml.namespace.QName("", "attOpt");
+    private static final javax.xml.namespace.QName LASTPASSWORDUPDATE$4 = 
+        new javax.xml.namespace.QName("", "lastPasswordUpdate");
+    private static final javax.xml.namespace.QName ATTREQUIRED$6 = 
+        new javax.xml.namespace.QName("", "attRequired");
+    private static final javax.xml.namespace.QName ATTREQUIREDDEFAULT$8 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrUse", "attRequiredDefault");
+    private static final javax.xml.namespace.QName ATTREQUIREDFIXED$10 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/LocalAttrUse", "attRequiredFixed");
+    
+    
+    /**
+     * Gets the "attDefault" attribute
+     */
+    public java.lang.String getAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attDefault" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTDEFAULT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attDefault" attribute
+     */
+    public boolean isSetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTDEFAULT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attDefault" attribute
+     */
+    public void setAttDefault(java.lang.String attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTDEFAULT$0);
+            }
+            target.setStringValue(attDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attDefault" attribute
+     */
+    public void xsetAttDefault(org.apache.xmlbeans.XmlString attDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTDEFAULT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTDEFAULT$0);
+            }
+            target.set(attDefault);
+        }
+    }
+    
+    /**
+     * Unsets the "attDefault" attribute
+     */
+    public void unsetAttDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTDEFAULT$0);
+        }
+    }
+    
+    /**
+     * Gets the "attOpt" attribute
+     */
+    public java.lang.String getAttOpt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTOPT$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attOpt" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttOpt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTOPT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attOpt" attribute
+     */
+    public boolean isSetAttOpt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTOPT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attOpt" attribute
+     */
+    public void setAttOpt(java.lang.String attOpt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTOPT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTOPT$2);
+            }
+            target.setStringValue(attOpt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attOpt" attribute
+     */
+    public void xsetAttOpt(org.apache.xmlbeans.XmlString attOpt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTOPT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTOPT$2);
+            }
+            target.set(attOpt);
+        }
+    }
+    
+    /**
+     * Unsets the "attOpt" attribute
+     */
+    public void unsetAttOpt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTOPT$2);
+        }
+    }
+    
+    /**
+     * Gets the "lastPasswordUpdate" attribute
+     */
+    public java.util.Calendar getLastPasswordUpdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LASTPASSWORDUPDATE$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "lastPasswordUpdate" attribute
+     */
+    public org.apache.xmlbeans.XmlDateTime xgetLastPasswordUpdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_attribute_user(LASTPASSWORDUPDATE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "lastPasswordUpdate" attribute
+     */
+    public boolean isSetLastPasswordUpdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LASTPASSWORDUPDATE$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "lastPasswordUpdate" attribute
+     */
+    public void setLastPasswordUpdate(java.util.Calendar lastPasswordUpdate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LASTPASSWORDUPDATE$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LASTPASSWORDUPDATE$4);
+            }
+            target.setCalendarValue(lastPasswordUpdate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "lastPasswordUpdate" attribute
+     */
+    public void xsetLastPasswordUpdate(org.apache.xmlbeans.XmlDateTime lastPasswordUpdate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_attribute_user(LASTPASSWORDUPDATE$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_attribute_user(LASTPASSWORDUPDATE$4);
+            }
+            target.set(lastPasswordUpdate);
+        }
+    }
+    
+    /**
+     * Unsets the "lastPasswordUpdate" attribute
+     */
+    public void unsetLastPasswordUpdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LASTPASSWORDUPDATE$4);
+        }
+    }
+    
+    /**
+     * Gets the "attRequired" attribute
+     */
+    public java.math.BigInteger getAttRequired()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIRED$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attRequired" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetAttRequired()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTREQUIRED$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "attRequired" attribute
+     */
+    public void setAttRequired(java.math.BigInteger attRequired)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIRED$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTREQUIRED$6);
+            }
+            target.setBigIntegerValue(attRequired);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attRequired" attribute
+     */
+    public void xsetAttRequired(org.apache.xmlbeans.XmlInteger attRequired)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(ATTREQUIRED$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(ATTREQUIRED$6);
+            }
+            target.set(attRequired);
+        }
+    }
+    
+    /**
+     * Gets the "attRequiredDefault" attribute
+     */
+    public java.lang.String getAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDDEFAULT$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attRequiredDefault" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttRequiredDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDDEFAULT$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "attRequiredDefault" attribute
+     */
+    public void setAttRequiredDefault(java.lang.String attRequiredDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDDEFAULT$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTREQUIREDDEFAULT$8);
+            }
+            target.setStringValue(attRequiredDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attRequiredDefault" attribute
+     */
+    public void xsetAttRequiredDefault(org.apache.xmlbeans.XmlString attRequiredDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDDEFAULT$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTREQUIREDDEFAULT$8);
+            }
+            target.set(attRequiredDefault);
+        }
+    }
+    
+    /**
+     * Gets the "attRequiredFixed" attribute
+     */
+    public java.lang.String getAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDFIXED$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTREQUIREDFIXED$10);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attRequiredFixed" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttRequiredFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDFIXED$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(ATTREQUIREDFIXED$10);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "attRequiredFixed" attribute
+     */
+    public void setAttRequiredFixed(java.lang.String attRequiredFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTREQUIREDFIXED$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTREQUIREDFIXED$10);
+            }
+            target.setStringValue(attRequiredFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attRequiredFixed" attribute
+     */
+    public void xsetAttRequiredFixed(org.apache.xmlbeans.XmlString attRequiredFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTREQUIREDFIXED$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTREQUIREDFIXED$10);
+            }
+            target.set(attRequiredFixed);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * An XML document type.
+ * Localname: AnonymousElt
+ * Namespace: http://xbean/scomp/contentType/Anonymous
+ * Java type: xbean.scomp.contentType.anonymous.AnonymousEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.anonymous;
+
+
+/**
+ * A document containing one AnonymousElt(@http://xbean/scomp/contentType/Anonymous) element.
+ *
+ * This is a complex type.
+ */
+public interface AnonymousEltDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AnonymousEltDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("anonymouselt7352doctype");
+    
+    /**
+     * Gets the "AnonymousElt" element
+     */
+    xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt getAnonymousElt();
+    
+    /**
+     * Sets the "AnonymousElt" element
+     */
+    void setAnonymousElt(xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt anonymousElt);
+    
+    /**
+     * Appends and returns a new empty "AnonymousElt" element
+     */
+    xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt addNewAnonymousElt();
+    
+    /**
+     * An XML AnonymousElt(@http://xbean/scomp/contentType/Anonymous).
+     *
+     * This is a complex type.
+     */
+    public interface AnonymousElt extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AnonymousElt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("anonymouseltf10eelemtype");
+        
+        /**
+         * Gets the "child1" element
+         */
+        java.math.BigInteger getChild1();
+        
+        /**
+         * Gets (as xml) the "child1" element
+         */
+        org.apache.xmlbeans.XmlInteger xgetChild1();
+        
+        /**
+         * Sets the "child1" element
+         */
+        void setChild1(java.math.BigInteger child1);
+        
+        /**
+         * Sets (as xml) the "child1" element
+         */
+        void xsetChild1(org.apache.xmlbeans.XmlInteger child1);
+        
+        /**
+         * Gets the "child2" element
+         */
+        java.math.BigInteger getChild2();
+        
+        /**
+         * Gets (as xml) the "child2" element
+         */
+        org.apache.xmlbeans.XmlInteger xgetChild2();
+        
+        /**
+         * Sets the "child2" element
+         */
+        void setChild2(java.math.BigInteger child2);
+        
+        /**
+         * Sets (as xml) the "child2" element
+         */
+        void xsetChild2(org.apache.xmlbeans.XmlInteger child2);
+        
+        /**
+         * Gets the "child3" element
+         */
+        java.math.BigInteger getChild3();
+        
+        /**
+         * Gets (as xml) the "child3" element
+         */
+        org.apache.xmlbeans.XmlInteger xgetChild3();
+        
+        /**
+         * Sets the "child3" element
+         */
+        void setChild3(java.math.BigInteger child3);
+        
+        /**
+         * Sets (as xml) the "child3" element
+         */
+        void xsetChild3(org.apache.xmlbeans.XmlInteger child3);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt newInstance() {
+              return (xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.contentType.anonymous.AnonymousEltDocument.AnonymousElt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument newInstance() {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.anonymous.AnonymousEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.anonymous.AnonymousEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DateElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.DateEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one DateElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class DateEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.DateEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DATEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "DateElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1187024385:
+                if (name.equals(DATEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DateElt" element
+     */
+    public java.util.Calendar getDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DateElt" element
+     */
+    public org.apache.xmlbeans.XmlDate xgetDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DateElt" element
+     */
+    public void setDateElt(java.util.Calendar dateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATEELT$0);
+            }
+            target.setCalendarValue(dateElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DateElt" element
+     */
+    public void xsetDateElt(org.apache.xmlbeans.XmlDate dateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATEELT$0);
+            }
+            target.set(dateElt);
+        }
+    }
+}
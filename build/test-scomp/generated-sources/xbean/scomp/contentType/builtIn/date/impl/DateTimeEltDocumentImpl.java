@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DateTimeElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.DateTimeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one DateTimeElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class DateTimeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.DateTimeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateTimeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DATETIMEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "DateTimeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1548984050:
+                if (name.equals(DATETIMEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DateTimeElt" element
+     */
+    public java.util.Calendar getDateTimeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DateTimeElt" element
+     */
+    public org.apache.xmlbeans.XmlDateTime xgetDateTimeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATETIMEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DateTimeElt" element
+     */
+    public void setDateTimeElt(java.util.Calendar dateTimeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATETIMEELT$0);
+            }
+            target.setCalendarValue(dateTimeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DateTimeElt" element
+     */
+    public void xsetDateTimeElt(org.apache.xmlbeans.XmlDateTime dateTimeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATETIMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(DATETIMEELT$0);
+            }
+            target.set(dateTimeElt);
+        }
+    }
+}
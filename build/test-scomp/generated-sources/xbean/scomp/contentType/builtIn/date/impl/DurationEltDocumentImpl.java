@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DurationElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.DurationEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one DurationElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class DurationEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.DurationEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DurationEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DURATIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "DurationElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1189778009:
+                if (name.equals(DURATIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DurationElt" element
+     */
+    public org.apache.xmlbeans.GDuration getDurationElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DURATIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getGDurationValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DurationElt" element
+     */
+    public org.apache.xmlbeans.XmlDuration xgetDurationElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDuration target = null;
+            target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DURATIONELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DurationElt" element
+     */
+    public void setDurationElt(org.apache.xmlbeans.GDuration durationElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DURATIONELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DURATIONELT$0);
+            }
+            target.setGDurationValue(durationElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DurationElt" element
+     */
+    public void xsetDurationElt(org.apache.xmlbeans.XmlDuration durationElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDuration target = null;
+            target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DURATIONELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDuration)get_store().add_element_user(DURATIONELT$0);
+            }
+            target.set(durationElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: gDayElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.GDayEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one gDayElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class GDayEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.GDayEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GDayEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GDAYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "gDayElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1036363080:
+                if (name.equals(GDAYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gDayElt" element
+     */
+    public java.util.Calendar getGDayElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GDAYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gDayElt" element
+     */
+    public org.apache.xmlbeans.XmlGDay xgetGDayElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGDay target = null;
+            target = (org.apache.xmlbeans.XmlGDay)get_store().find_element_user(GDAYELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gDayElt" element
+     */
+    public void setGDayElt(java.util.Calendar gDayElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GDAYELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GDAYELT$0);
+            }
+            target.setCalendarValue(gDayElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gDayElt" element
+     */
+    public void xsetGDayElt(org.apache.xmlbeans.XmlGDay gDayElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGDay target = null;
+            target = (org.apache.xmlbeans.XmlGDay)get_store().find_element_user(GDAYELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlGDay)get_store().add_element_user(GDAYELT$0);
+            }
+            target.set(gDayElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: gMonthDayElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.GMonthDayEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one gMonthDayElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class GMonthDayEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.GMonthDayEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GMonthDayEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GMONTHDAYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "gMonthDayElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1951664342:
+                if (name.equals(GMONTHDAYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gMonthDayElt" element
+     */
+    public java.util.Calendar getGMonthDayElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GMONTHDAYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gMonthDayElt" element
+     */
+    public org.apache.xmlbeans.XmlGMonthDay xgetGMonthDayElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGMonthDay target = null;
+            target = (org.apache.xmlbeans.XmlGMonthDay)get_store().find_element_user(GMONTHDAYELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gMonthDayElt" element
+     */
+    public void setGMonthDayElt(java.util.Calendar gMonthDayElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GMONTHDAYELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GMONTHDAYELT$0);
+            }
+            target.setCalendarValue(gMonthDayElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gMonthDayElt" element
+     */
+    public void xsetGMonthDayElt(org.apache.xmlbeans.XmlGMonthDay gMonthDayElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGMonthDay target = null;
+            target = (org.apache.xmlbeans.XmlGMonthDay)get_store().find_element_user(GMONTHDAYELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlGMonthDay)get_store().add_element_user(GMONTHDAYELT$0);
+            }
+            target.set(gMonthDayElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: gMonthElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.GMonthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one gMonthElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class GMonthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.GMonthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GMonthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GMONTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "gMonthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1738609772:
+                if (name.equals(GMONTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gMonthElt" element
+     */
+    public java.util.Calendar getGMonthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GMONTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gMonthElt" element
+     */
+    public org.apache.xmlbeans.XmlGMonth xgetGMonthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGMonth target = null;
+            target = (org.apache.xmlbeans.XmlGMonth)get_store().find_element_user(GMONTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gMonthElt" element
+     */
+    public void setGMonthElt(java.util.Calendar gMonthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GMONTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GMONTHELT$0);
+            }
+            target.setCalendarValue(gMonthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gMonthElt" element
+     */
+    public void xsetGMonthElt(org.apache.xmlbeans.XmlGMonth gMonthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGMonth target = null;
+            target = (org.apache.xmlbeans.XmlGMonth)get_store().find_element_user(GMONTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlGMonth)get_store().add_element_user(GMONTHELT$0);
+            }
+            target.set(gMonthElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: gYearElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.GYearEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one gYearElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class GYearEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.GYearEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GYearEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GYEARELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "gYearElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -511121207:
+                if (name.equals(GYEARELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gYearElt" element
+     */
+    public java.util.Calendar getGYearElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gYearElt" element
+     */
+    public org.apache.xmlbeans.XmlGYear xgetGYearElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGYear target = null;
+            target = (org.apache.xmlbeans.XmlGYear)get_store().find_element_user(GYEARELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gYearElt" element
+     */
+    public void setGYearElt(java.util.Calendar gYearElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GYEARELT$0);
+            }
+            target.setCalendarValue(gYearElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gYearElt" element
+     */
+    public void xsetGYearElt(org.apache.xmlbeans.XmlGYear gYearElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGYear target = null;
+            target = (org.apache.xmlbeans.XmlGYear)get_store().find_element_user(GYEARELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlGYear)get_store().add_element_user(GYEARELT$0);
+            }
+            target.set(gYearElt);
+        }
+    }
+}
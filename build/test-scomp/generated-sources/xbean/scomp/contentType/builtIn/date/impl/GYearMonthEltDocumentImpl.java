@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: gYearMonthElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.GYearMonthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one gYearMonthElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class GYearMonthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.GYearMonthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GYearMonthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GYEARMONTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "gYearMonthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -388485263:
+                if (name.equals(GYEARMONTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gYearMonthElt" element
+     */
+    public java.util.Calendar getGYearMonthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARMONTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gYearMonthElt" element
+     */
+    public org.apache.xmlbeans.XmlGYearMonth xgetGYearMonthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGYearMonth target = null;
+            target = (org.apache.xmlbeans.XmlGYearMonth)get_store().find_element_user(GYEARMONTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gYearMonthElt" element
+     */
+    public void setGYearMonthElt(java.util.Calendar gYearMonthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARMONTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GYEARMONTHELT$0);
+            }
+            target.setCalendarValue(gYearMonthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gYearMonthElt" element
+     */
+    public void xsetGYearMonthElt(org.apache.xmlbeans.XmlGYearMonth gYearMonthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlGYearMonth target = null;
+            target = (org.apache.xmlbeans.XmlGYearMonth)get_store().find_element_user(GYEARMONTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlGYearMonth)get_store().add_element_user(GYEARMONTHELT$0);
+            }
+            target.set(gYearMonthElt);
+        }
+    }
+}
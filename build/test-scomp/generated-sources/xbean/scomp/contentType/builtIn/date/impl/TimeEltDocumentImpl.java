@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: TimeElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Date
+ * Java type: xbean.scomp.contentType.builtIn.date.TimeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.date.impl;
+/**
+ * A document containing one TimeElt(@http://xbean/scomp/contentType/builtIn/Date) element.
+ *
+ * This is a complex type.
+ */
+public class TimeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.date.TimeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TimeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TIMEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Date", "TimeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 350701184:
+                if (name.equals(TIMEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TimeElt" element
+     */
+    public java.util.Calendar getTimeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TIMEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "TimeElt" element
+     */
+    public org.apache.xmlbeans.XmlTime xgetTimeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlTime target = null;
+            target = (org.apache.xmlbeans.XmlTime)get_store().find_element_user(TIMEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TimeElt" element
+     */
+    public void setTimeElt(java.util.Calendar timeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TIMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TIMEELT$0);
+            }
+            target.setCalendarValue(timeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "TimeElt" element
+     */
+    public void xsetTimeElt(org.apache.xmlbeans.XmlTime timeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlTime target = null;
+            target = (org.apache.xmlbeans.XmlTime)get_store().find_element_user(TIMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlTime)get_store().add_element_user(TIMEELT$0);
+            }
+            target.set(timeElt);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: ByteElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.ByteEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one ByteElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class ByteEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.ByteEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ByteEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BYTEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "ByteElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2020035173:
+                if (name.equals(BYTEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ByteElt" element
+     */
+    public byte getByteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(BYTEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BYTEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getByteValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ByteElt" element
+     */
+    public org.apache.xmlbeans.XmlByte xgetByteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(BYTEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ByteElt" element
+     */
+    public void setByteElt(byte byteElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BYTEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BYTEELT$0);
+            }
+            target.setByteValue(byteElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ByteElt" element
+     */
+    public void xsetByteElt(org.apache.xmlbeans.XmlByte byteElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(BYTEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_element_user(BYTEELT$0);
+            }
+            target.set(byteElt);
+        }
+    }
+}
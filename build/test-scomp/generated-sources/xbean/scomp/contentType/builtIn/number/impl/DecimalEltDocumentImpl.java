@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DecimalElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.DecimalEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one DecimalElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class DecimalEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.DecimalEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DecimalEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DECIMALELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "DecimalElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 9292732:
+                if (name.equals(DECIMALELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DecimalElt" element
+     */
+    public java.math.BigDecimal getDecimalElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DECIMALELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DecimalElt" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetDecimalElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(DECIMALELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DecimalElt" element
+     */
+    public void setDecimalElt(java.math.BigDecimal decimalElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DECIMALELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DECIMALELT$0);
+            }
+            target.setBigDecimalValue(decimalElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DecimalElt" element
+     */
+    public void xsetDecimalElt(org.apache.xmlbeans.XmlDecimal decimalElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(DECIMALELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(DECIMALELT$0);
+            }
+            target.set(decimalElt);
+        }
+    }
+}
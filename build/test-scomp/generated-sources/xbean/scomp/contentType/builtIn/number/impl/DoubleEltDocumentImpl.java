@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: DoubleElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.DoubleEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one DoubleElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class DoubleEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.DoubleEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DoubleEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOUBLEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "DoubleElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1197790972:
+                if (name.equals(DOUBLEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DoubleElt" element
+     */
+    public double getDoubleElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(DOUBLEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexDouble(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DOUBLEELT$0, 0);
+            if (target == null)
+            {
+                return 0.0;
+            }
+            return target.getDoubleValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DoubleElt" element
+     */
+    public org.apache.xmlbeans.XmlDouble xgetDoubleElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(DOUBLEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DoubleElt" element
+     */
+    public void setDoubleElt(double doubleElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DOUBLEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DOUBLEELT$0);
+            }
+            target.setDoubleValue(doubleElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DoubleElt" element
+     */
+    public void xsetDoubleElt(org.apache.xmlbeans.XmlDouble doubleElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(DOUBLEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDouble)get_store().add_element_user(DOUBLEELT$0);
+            }
+            target.set(doubleElt);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: FloatElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.FloatEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one FloatElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class FloatEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.FloatEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FloatEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FLOATELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "FloatElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2074731729:
+                if (name.equals(FLOATELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "FloatElt" element
+     */
+    public float getFloatElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(FLOATELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLOATELT$0, 0);
+            if (target == null)
+            {
+                return 0.0f;
+            }
+            return target.getFloatValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "FloatElt" element
+     */
+    public org.apache.xmlbeans.XmlFloat xgetFloatElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(FLOATELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "FloatElt" element
+     */
+    public void setFloatElt(float floatElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLOATELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FLOATELT$0);
+            }
+            target.setFloatValue(floatElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "FloatElt" element
+     */
+    public void xsetFloatElt(org.apache.xmlbeans.XmlFloat floatElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(FLOATELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlFloat)get_store().add_element_user(FLOATELT$0);
+            }
+            target.set(floatElt);
+        }
+    }
+}
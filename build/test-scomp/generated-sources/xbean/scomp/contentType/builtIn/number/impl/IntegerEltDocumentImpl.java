@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: IntegerElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.IntegerEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one IntegerElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class IntegerEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.IntegerEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IntegerEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName INTEGERELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "IntegerElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 79559343:
+                if (name.equals(INTEGERELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "IntegerElt" element
+     */
+    public java.math.BigInteger getIntegerElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTEGERELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "IntegerElt" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetIntegerElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(INTEGERELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "IntegerElt" element
+     */
+    public void setIntegerElt(java.math.BigInteger integerElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTEGERELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INTEGERELT$0);
+            }
+            target.setBigIntegerValue(integerElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "IntegerElt" element
+     */
+    public void xsetIntegerElt(org.apache.xmlbeans.XmlInteger integerElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(INTEGERELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(INTEGERELT$0);
+            }
+            target.set(integerElt);
+        }
+    }
+}
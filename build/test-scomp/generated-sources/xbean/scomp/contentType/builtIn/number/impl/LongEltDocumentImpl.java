@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: LongElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.LongEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one LongElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class LongEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.LongEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LongEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LONGELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "LongElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2013364337:
+                if (name.equals(LONGELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LongElt" element
+     */
+    public long getLongElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(LONGELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LONGELT$0, 0);
+            if (target == null)
+            {
+                return 0L;
+            }
+            return target.getLongValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LongElt" element
+     */
+    public org.apache.xmlbeans.XmlLong xgetLongElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLong target = null;
+            target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(LONGELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LongElt" element
+     */
+    public void setLongElt(long longElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LONGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LONGELT$0);
+            }
+            target.setLongValue(longElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LongElt" element
+     */
+    public void xsetLongElt(org.apache.xmlbeans.XmlLong longElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLong target = null;
+            target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(LONGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLong)get_store().add_element_user(LONGELT$0);
+            }
+            target.set(longElt);
+        }
+    }
+}
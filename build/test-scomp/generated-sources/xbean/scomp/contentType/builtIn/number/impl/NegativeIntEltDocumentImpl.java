@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NegativeIntElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.NegativeIntEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one NegativeIntElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class NegativeIntEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.NegativeIntEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NegativeIntEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NEGATIVEINTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "NegativeIntElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 859096819:
+                if (name.equals(NEGATIVEINTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NegativeIntElt" element
+     */
+    public java.math.BigInteger getNegativeIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEGATIVEINTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NegativeIntElt" element
+     */
+    public org.apache.xmlbeans.XmlNegativeInteger xgetNegativeIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNegativeInteger)get_store().find_element_user(NEGATIVEINTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NegativeIntElt" element
+     */
+    public void setNegativeIntElt(java.math.BigInteger negativeIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEGATIVEINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NEGATIVEINTELT$0);
+            }
+            target.setBigIntegerValue(negativeIntElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NegativeIntElt" element
+     */
+    public void xsetNegativeIntElt(org.apache.xmlbeans.XmlNegativeInteger negativeIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNegativeInteger)get_store().find_element_user(NEGATIVEINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNegativeInteger)get_store().add_element_user(NEGATIVEINTELT$0);
+            }
+            target.set(negativeIntElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NonNegIntElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.NonNegIntEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one NonNegIntElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class NonNegIntEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.NonNegIntEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NonNegIntEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NONNEGINTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "NonNegIntElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -754939967:
+                if (name.equals(NONNEGINTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NonNegIntElt" element
+     */
+    public java.math.BigInteger getNonNegIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONNEGINTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NonNegIntElt" element
+     */
+    public org.apache.xmlbeans.XmlNonNegativeInteger xgetNonNegIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().find_element_user(NONNEGINTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NonNegIntElt" element
+     */
+    public void setNonNegIntElt(java.math.BigInteger nonNegIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONNEGINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NONNEGINTELT$0);
+            }
+            target.setBigIntegerValue(nonNegIntElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NonNegIntElt" element
+     */
+    public void xsetNonNegIntElt(org.apache.xmlbeans.XmlNonNegativeInteger nonNegIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().find_element_user(NONNEGINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().add_element_user(NONNEGINTELT$0);
+            }
+            target.set(nonNegIntElt);
+        }
+    }
+}
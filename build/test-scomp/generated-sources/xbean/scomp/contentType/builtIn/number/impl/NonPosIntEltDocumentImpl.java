@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NonPosIntElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.NonPosIntEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one NonPosIntElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class NonPosIntEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.NonPosIntEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NonPosIntEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NONPOSINTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "NonPosIntElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2061505147:
+                if (name.equals(NONPOSINTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NonPosIntElt" element
+     */
+    public java.math.BigInteger getNonPosIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONPOSINTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NonPosIntElt" element
+     */
+    public org.apache.xmlbeans.XmlNonPositiveInteger xgetNonPosIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonPositiveInteger)get_store().find_element_user(NONPOSINTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NonPosIntElt" element
+     */
+    public void setNonPosIntElt(java.math.BigInteger nonPosIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NONPOSINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NONPOSINTELT$0);
+            }
+            target.setBigIntegerValue(nonPosIntElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NonPosIntElt" element
+     */
+    public void xsetNonPosIntElt(org.apache.xmlbeans.XmlNonPositiveInteger nonPosIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonPositiveInteger)get_store().find_element_user(NONPOSINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNonPositiveInteger)get_store().add_element_user(NONPOSINTELT$0);
+            }
+            target.set(nonPosIntElt);
+        }
+    }
+}
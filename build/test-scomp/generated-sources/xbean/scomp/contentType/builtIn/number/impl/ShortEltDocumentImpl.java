@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: ShortElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.ShortEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one ShortElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class ShortEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.ShortEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShortEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHORTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "ShortElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -277885263:
+                if (name.equals(SHORTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ShortElt" element
+     */
+    public short getShortElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(SHORTELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexShort(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHORTELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getShortValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ShortElt" element
+     */
+    public org.apache.xmlbeans.XmlShort xgetShortElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlShort target = null;
+            target = (org.apache.xmlbeans.XmlShort)get_store().find_element_user(SHORTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ShortElt" element
+     */
+    public void setShortElt(short shortElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHORTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHORTELT$0);
+            }
+            target.setShortValue(shortElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ShortElt" element
+     */
+    public void xsetShortElt(org.apache.xmlbeans.XmlShort shortElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlShort target = null;
+            target = (org.apache.xmlbeans.XmlShort)get_store().find_element_user(SHORTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlShort)get_store().add_element_user(SHORTELT$0);
+            }
+            target.set(shortElt);
+        }
+    }
+}
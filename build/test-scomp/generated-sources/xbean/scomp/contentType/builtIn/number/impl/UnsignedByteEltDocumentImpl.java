@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: UnsignedByteElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.UnsignedByteEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one UnsignedByteElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class UnsignedByteEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.UnsignedByteEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnsignedByteEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNSIGNEDBYTEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "UnsignedByteElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1697722960:
+                if (name.equals(UNSIGNEDBYTEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnsignedByteElt" element
+     */
+    public short getUnsignedByteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(UNSIGNEDBYTEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexShort(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDBYTEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getShortValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnsignedByteElt" element
+     */
+    public org.apache.xmlbeans.XmlUnsignedByte xgetUnsignedByteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedByte target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedByte)get_store().find_element_user(UNSIGNEDBYTEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnsignedByteElt" element
+     */
+    public void setUnsignedByteElt(short unsignedByteElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDBYTEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNSIGNEDBYTEELT$0);
+            }
+            target.setShortValue(unsignedByteElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnsignedByteElt" element
+     */
+    public void xsetUnsignedByteElt(org.apache.xmlbeans.XmlUnsignedByte unsignedByteElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedByte target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedByte)get_store().find_element_user(UNSIGNEDBYTEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlUnsignedByte)get_store().add_element_user(UNSIGNEDBYTEELT$0);
+            }
+            target.set(unsignedByteElt);
+        }
+    }
+}
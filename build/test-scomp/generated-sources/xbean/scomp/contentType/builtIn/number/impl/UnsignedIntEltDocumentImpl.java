@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: UnsignedIntElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.UnsignedIntEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one UnsignedIntElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class UnsignedIntEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.UnsignedIntEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnsignedIntEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNSIGNEDINTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "UnsignedIntElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 689639859:
+                if (name.equals(UNSIGNEDINTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnsignedIntElt" element
+     */
+    public long getUnsignedIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(UNSIGNEDINTELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDINTELT$0, 0);
+            if (target == null)
+            {
+                return 0L;
+            }
+            return target.getLongValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnsignedIntElt" element
+     */
+    public org.apache.xmlbeans.XmlUnsignedInt xgetUnsignedIntElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedInt target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedInt)get_store().find_element_user(UNSIGNEDINTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnsignedIntElt" element
+     */
+    public void setUnsignedIntElt(long unsignedIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNSIGNEDINTELT$0);
+            }
+            target.setLongValue(unsignedIntElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnsignedIntElt" element
+     */
+    public void xsetUnsignedIntElt(org.apache.xmlbeans.XmlUnsignedInt unsignedIntElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedInt target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedInt)get_store().find_element_user(UNSIGNEDINTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlUnsignedInt)get_store().add_element_user(UNSIGNEDINTELT$0);
+            }
+            target.set(unsignedIntElt);
+        }
+    }
+}
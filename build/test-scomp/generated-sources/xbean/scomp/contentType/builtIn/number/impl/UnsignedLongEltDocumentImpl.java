@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnsignedLongElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.UnsignedLongEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one UnsignedLongElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class UnsignedLongEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.UnsignedLongEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnsignedLongEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNSIGNEDLONGELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "UnsignedLongElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1704393796:
+                if (name.equals(UNSIGNEDLONGELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnsignedLongElt" element
+     */
+    public java.math.BigInteger getUnsignedLongElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDLONGELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnsignedLongElt" element
+     */
+    public org.apache.xmlbeans.XmlUnsignedLong xgetUnsignedLongElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedLong target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedLong)get_store().find_element_user(UNSIGNEDLONGELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnsignedLongElt" element
+     */
+    public void setUnsignedLongElt(java.math.BigInteger unsignedLongElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDLONGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNSIGNEDLONGELT$0);
+            }
+            target.setBigIntegerValue(unsignedLongElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnsignedLongElt" element
+     */
+    public void xsetUnsignedLongElt(org.apache.xmlbeans.XmlUnsignedLong unsignedLongElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedLong target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedLong)get_store().find_element_user(UNSIGNEDLONGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlUnsignedLong)get_store().add_element_user(UNSIGNEDLONGELT$0);
+            }
+            target.set(unsignedLongElt);
+        }
+    }
+}
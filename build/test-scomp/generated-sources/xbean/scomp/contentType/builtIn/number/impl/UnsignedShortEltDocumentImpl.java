@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: UnsignedShortElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/Number
+ * Java type: xbean.scomp.contentType.builtIn.number.UnsignedShortEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.number.impl;
+/**
+ * A document containing one UnsignedShortElt(@http://xbean/scomp/contentType/builtIn/Number) element.
+ *
+ * This is a complex type.
+ */
+public class UnsignedShortEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.number.UnsignedShortEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnsignedShortEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNSIGNEDSHORTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/Number", "UnsignedShortElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 435729606:
+                if (name.equals(UNSIGNEDSHORTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnsignedShortElt" element
+     */
+    public int getUnsignedShortElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(UNSIGNEDSHORTELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDSHORTELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnsignedShortElt" element
+     */
+    public org.apache.xmlbeans.XmlUnsignedShort xgetUnsignedShortElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedShort target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedShort)get_store().find_element_user(UNSIGNEDSHORTELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnsignedShortElt" element
+     */
+    public void setUnsignedShortElt(int unsignedShortElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNSIGNEDSHORTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNSIGNEDSHORTELT$0);
+            }
+            target.setIntValue(unsignedShortElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnsignedShortElt" element
+     */
+    public void xsetUnsignedShortElt(org.apache.xmlbeans.XmlUnsignedShort unsignedShortElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlUnsignedShort target = null;
+            target = (org.apache.xmlbeans.XmlUnsignedShort)get_store().find_element_user(UNSIGNEDSHORTELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlUnsignedShort)get_store().add_element_user(UNSIGNEDSHORTELT$0);
+            }
+            target.set(unsignedShortElt);
+        }
+    }
+}
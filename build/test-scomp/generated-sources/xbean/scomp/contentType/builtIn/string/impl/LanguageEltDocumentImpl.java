@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: LanguageElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.LanguageEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one LanguageElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class LanguageEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.LanguageEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LanguageEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LANGUAGEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "LanguageElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 491996693:
+                if (name.equals(LANGUAGEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LanguageElt" element
+     */
+    public java.lang.String getLanguageElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LANGUAGEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LanguageElt" element
+     */
+    public org.apache.xmlbeans.XmlLanguage xgetLanguageElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_element_user(LANGUAGEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LanguageElt" element
+     */
+    public void setLanguageElt(java.lang.String languageElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LANGUAGEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LANGUAGEELT$0);
+            }
+            target.setStringValue(languageElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LanguageElt" element
+     */
+    public void xsetLanguageElt(org.apache.xmlbeans.XmlLanguage languageElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_element_user(LANGUAGEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLanguage)get_store().add_element_user(LANGUAGEELT$0);
+            }
+            target.set(languageElt);
+        }
+    }
+}
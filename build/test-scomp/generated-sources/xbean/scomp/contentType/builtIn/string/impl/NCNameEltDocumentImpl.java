@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NCNameElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.NCNameEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one NCNameElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class NCNameEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.NCNameEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NCNameEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NCNAMEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "NCNameElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 648261293:
+                if (name.equals(NCNAMEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NCNameElt" element
+     */
+    public java.lang.String getNCNameElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NCNAMEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NCNameElt" element
+     */
+    public org.apache.xmlbeans.XmlNCName xgetNCNameElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNCName target = null;
+            target = (org.apache.xmlbeans.XmlNCName)get_store().find_element_user(NCNAMEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NCNameElt" element
+     */
+    public void setNCNameElt(java.lang.String ncNameElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NCNAMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NCNAMEELT$0);
+            }
+            target.setStringValue(ncNameElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NCNameElt" element
+     */
+    public void xsetNCNameElt(org.apache.xmlbeans.XmlNCName ncNameElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNCName target = null;
+            target = (org.apache.xmlbeans.XmlNCName)get_store().find_element_user(NCNAMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNCName)get_store().add_element_user(NCNAMEELT$0);
+            }
+            target.set(ncNameElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NameElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.NameEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one NameElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class NameEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.NameEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "NameElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -908386814:
+                if (name.equals(NAMEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NameElt" element
+     */
+    public java.lang.String getNameElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAMEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NameElt" element
+     */
+    public org.apache.xmlbeans.XmlName xgetNameElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlName target = null;
+            target = (org.apache.xmlbeans.XmlName)get_store().find_element_user(NAMEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NameElt" element
+     */
+    public void setNameElt(java.lang.String nameElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAMEELT$0);
+            }
+            target.setStringValue(nameElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NameElt" element
+     */
+    public void xsetNameElt(org.apache.xmlbeans.XmlName nameElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlName target = null;
+            target = (org.apache.xmlbeans.XmlName)get_store().find_element_user(NAMEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlName)get_store().add_element_user(NAMEELT$0);
+            }
+            target.set(nameElt);
+        }
+    }
+}
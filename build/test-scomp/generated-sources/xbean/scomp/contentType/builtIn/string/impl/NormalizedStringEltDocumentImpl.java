@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NormalizedStringElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.NormalizedStringEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one NormalizedStringElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class NormalizedStringEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.NormalizedStringEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NormalizedStringEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NORMALIZEDSTRINGELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "NormalizedStringElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1192899973:
+                if (name.equals(NORMALIZEDSTRINGELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NormalizedStringElt" element
+     */
+    public java.lang.String getNormalizedStringElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NORMALIZEDSTRINGELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NormalizedStringElt" element
+     */
+    public org.apache.xmlbeans.XmlNormalizedString xgetNormalizedStringElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNormalizedString target = null;
+            target = (org.apache.xmlbeans.XmlNormalizedString)get_store().find_element_user(NORMALIZEDSTRINGELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NormalizedStringElt" element
+     */
+    public void setNormalizedStringElt(java.lang.String normalizedStringElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NORMALIZEDSTRINGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NORMALIZEDSTRINGELT$0);
+            }
+            target.setStringValue(normalizedStringElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NormalizedStringElt" element
+     */
+    public void xsetNormalizedStringElt(org.apache.xmlbeans.XmlNormalizedString normalizedStringElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNormalizedString target = null;
+            target = (org.apache.xmlbeans.XmlNormalizedString)get_store().find_element_user(NORMALIZEDSTRINGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNormalizedString)get_store().add_element_user(NORMALIZEDSTRINGELT$0);
+            }
+            target.set(normalizedStringElt);
+        }
+    }
+}
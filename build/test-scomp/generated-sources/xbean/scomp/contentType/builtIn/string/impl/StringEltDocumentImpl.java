@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: StringElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.StringEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one StringElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class StringEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.StringEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StringEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STRINGELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "StringElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1814661820:
+                if (name.equals(STRINGELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "StringElt" element
+     */
+    public java.lang.String getStringElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRINGELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "StringElt" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStringElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRINGELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "StringElt" element
+     */
+    public void setStringElt(java.lang.String stringElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRINGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STRINGELT$0);
+            }
+            target.setStringValue(stringElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "StringElt" element
+     */
+    public void xsetStringElt(org.apache.xmlbeans.XmlString stringElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRINGELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STRINGELT$0);
+            }
+            target.set(stringElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: TokenElt
+ * Namespace: http://xbean/scomp/contentType/builtIn/String
+ * Java type: xbean.scomp.contentType.builtIn.string.TokenEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.builtIn.string.impl;
+/**
+ * A document containing one TokenElt(@http://xbean/scomp/contentType/builtIn/String) element.
+ *
+ * This is a complex type.
+ */
+public class TokenEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.builtIn.string.TokenEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TokenEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TOKENELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/builtIn/String", "TokenElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1039184876:
+                if (name.equals(TOKENELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TokenElt" element
+     */
+    public java.lang.String getTokenElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOKENELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "TokenElt" element
+     */
+    public org.apache.xmlbeans.XmlToken xgetTokenElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(TOKENELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TokenElt" element
+     */
+    public void setTokenElt(java.lang.String tokenElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOKENELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TOKENELT$0);
+            }
+            target.setStringValue(tokenElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "TokenElt" element
+     */
+    public void xsetTokenElt(org.apache.xmlbeans.XmlToken tokenElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(TOKENELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_element_user(TOKENELT$0);
+            }
+            target.set(tokenElt);
+        }
+    }
+}
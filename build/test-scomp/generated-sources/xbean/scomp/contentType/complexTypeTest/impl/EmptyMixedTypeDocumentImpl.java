@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EmptyMixedType
+ * Namespace: http://xbean/scomp/contentType/ComplexTypeTest
+ * Java type: xbean.scomp.contentType.complexTypeTest.EmptyMixedTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.complexTypeTest.impl;
+/**
+ * A document containing one EmptyMixedType(@http://xbean/scomp/contentType/ComplexTypeTest) element.
+ *
+ * This is a complex type.
+ */
+public class EmptyMixedTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.complexTypeTest.EmptyMixedTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmptyMixedTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPTYMIXEDTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ComplexTypeTest", "EmptyMixedType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1820337960:
+                if (name.equals(EMPTYMIXEDTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EmptyMixedType" element
+     */
+    public xbean.scomp.contentType.complexTypeTest.EmptyT getEmptyMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.complexTypeTest.EmptyT target = null;
+            target = (xbean.scomp.contentType.complexTypeTest.EmptyT)get_store().find_element_user(EMPTYMIXEDTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EmptyMixedType" element
+     */
+    public void setEmptyMixedType(xbean.scomp.contentType.complexTypeTest.EmptyT emptyMixedType)
+    {
+        generatedSetterHelperImpl(emptyMixedType, EMPTYMIXEDTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EmptyMixedType" element
+     */
+    public xbean.scomp.contentType.complexTypeTest.EmptyT addNewEmptyMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.complexTypeTest.EmptyT target = null;
+            target = (xbean.scomp.contentType.complexTypeTest.EmptyT)get_store().add_element_user(EMPTYMIXEDTYPE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * XML Type:  mixedT
+ * Namespace: http://xbean/scomp/contentType/ComplexTypeTest
+ * Java type: xbean.scomp.contentType.complexTypeTest.MixedT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.complexTypeTest.impl;
+/**
+ * An XML mixedT(@http://xbean/scomp/contentType/ComplexTypeTest).
+ *
+ * This is a complex type.
+ */
+public class MixedTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.complexTypeTest.MixedT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILD1$0 = 
+        new javax.xml.namespace.QName("", "child1");
+    private static final javax.xml.namespace.QName CHILD2$2 = 
+        new javax.xml.namespace.QName("", "child2");
+    private static final javax.xml.namespace.QName CHILD3$4 = 
+        new javax.xml.namespace.QName("", "child3");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1361400171:
+                if (name.equals(CHILD1$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1361400170:
+                if (name.equals(CHILD2$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1361400169:
+                if (name.equals(CHILD3$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "child1" element
+     */
+    public java.math.BigInteger getChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "child1" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD1$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "child1" element
+     */
+    public void setChild1(java.math.BigInteger child1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD1$0);
+            }
+            target.setBigIntegerValue(child1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "child1" element
+     */
+    public void xsetChild1(org.apache.xmlbeans.XmlInteger child1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD1$0);
+            }
+            target.set(child1);
+        }
+    }
+    
+    /**
+     * Gets the "child2" element
+     */
+    public java.math.BigInteger getChild2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD2$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "child2" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD2$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "child2" element
+     */
+    public void setChild2(java.math.BigInteger child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD2$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD2$2);
+            }
+            target.setBigIntegerValue(child2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "child2" element
+     */
+    public void xsetChild2(org.apache.xmlbeans.XmlInteger child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD2$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD2$2);
+            }
+            target.set(child2);
+        }
+    }
+    
+    /**
+     * Gets the "child3" element
+     */
+    public java.math.BigInteger getChild3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "child3" element
+     */
+    public void setChild3(java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD3$4);
+            }
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "child3" element
+     */
+    public void xsetChild3(org.apache.xmlbeans.XmlInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD3$4);
+            }
+            target.set(child3);
+        }
+    }
+}
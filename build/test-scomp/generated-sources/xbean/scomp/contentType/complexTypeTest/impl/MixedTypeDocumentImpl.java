@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: MixedType
+ * Namespace: http://xbean/scomp/contentType/ComplexTypeTest
+ * Java type: xbean.scomp.contentType.complexTypeTest.MixedTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.complexTypeTest.impl;
+/**
+ * A document containing one MixedType(@http://xbean/scomp/contentType/ComplexTypeTest) element.
+ *
+ * This is a complex type.
+ */
+public class MixedTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.complexTypeTest.MixedTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXEDTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ComplexTypeTest", "MixedType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1310770763:
+                if (name.equals(MIXEDTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MixedType" element
+     */
+    public xbean.scomp.contentType.complexTypeTest.MixedT getMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.complexTypeTest.MixedT target = null;
+            target = (xbean.scomp.contentType.complexTypeTest.MixedT)get_store().find_element_user(MIXEDTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MixedType" element
+     */
+    public void setMixedType(xbean.scomp.contentType.complexTypeTest.MixedT mixedType)
+    {
+        generatedSetterHelperImpl(mixedType, MIXEDTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MixedType" element
+     */
+    public xbean.scomp.contentType.complexTypeTest.MixedT addNewMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.complexTypeTest.MixedT target = null;
+            target = (xbean.scomp.contentType.complexTypeTest.MixedT)get_store().add_element_user(MIXEDTYPE$0);
+            return target;
+        }
+    }
+}
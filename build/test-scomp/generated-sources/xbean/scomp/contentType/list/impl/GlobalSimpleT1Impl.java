@@ -0,0 +1,27 @@
+/*
+ * XML Type:  GlobalSimpleT1
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.GlobalSimpleT1
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * An XML GlobalSimpleT1(@http://xbean/scomp/contentType/List).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.contentType.list.GlobalSimpleT1.
+ */
+public class GlobalSimpleT1Impl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.contentType.list.GlobalSimpleT1
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalSimpleT1Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected GlobalSimpleT1Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  GlobalSimpleT
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.GlobalSimpleT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * An XML GlobalSimpleT(@http://xbean/scomp/contentType/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.list.GlobalSimpleT1.
+ */
+public class GlobalSimpleTImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.contentType.list.GlobalSimpleT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalSimpleTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected GlobalSimpleTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
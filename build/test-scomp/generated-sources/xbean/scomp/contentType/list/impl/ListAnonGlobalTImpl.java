@@ -0,0 +1,46 @@
+/*
+ * XML Type:  ListAnonGlobalT
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListAnonGlobalT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * An XML ListAnonGlobalT(@http://xbean/scomp/contentType/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.list.ListAnonGlobalT$Item.
+ */
+public class ListAnonGlobalTImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.contentType.list.ListAnonGlobalT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListAnonGlobalTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListAnonGlobalTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of xbean.scomp.contentType.list.ListAnonGlobalT$Item.
+     */
+    public static class ItemImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements xbean.scomp.contentType.list.ListAnonGlobalT.Item
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ItemImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected ItemImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
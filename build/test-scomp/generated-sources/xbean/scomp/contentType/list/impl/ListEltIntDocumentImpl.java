@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ListEltInt
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListEltIntDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * A document containing one ListEltInt(@http://xbean/scomp/contentType/List) element.
+ *
+ * This is a complex type.
+ */
+public class ListEltIntDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.list.ListEltIntDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListEltIntDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTELTINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/List", "ListEltInt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1950303840:
+                if (name.equals(LISTELTINT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListEltInt" element
+     */
+    public java.util.List getListEltInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTELTINT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ListEltInt" element
+     */
+    public xbean.scomp.contentType.list.GlobalSimpleT xgetListEltInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.GlobalSimpleT target = null;
+            target = (xbean.scomp.contentType.list.GlobalSimpleT)get_store().find_element_user(LISTELTINT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListEltInt" element
+     */
+    public void setListEltInt(java.util.List listEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTELTINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LISTELTINT$0);
+            }
+            target.setListValue(listEltInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ListEltInt" element
+     */
+    public void xsetListEltInt(xbean.scomp.contentType.list.GlobalSimpleT listEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.GlobalSimpleT target = null;
+            target = (xbean.scomp.contentType.list.GlobalSimpleT)get_store().find_element_user(LISTELTINT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.list.GlobalSimpleT)get_store().add_element_user(LISTELTINT$0);
+            }
+            target.set(listEltInt);
+        }
+    }
+}
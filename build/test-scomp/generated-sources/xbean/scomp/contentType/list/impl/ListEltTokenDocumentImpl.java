@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ListEltToken
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListEltTokenDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * A document containing one ListEltToken(@http://xbean/scomp/contentType/List) element.
+ *
+ * This is a complex type.
+ */
+public class ListEltTokenDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.list.ListEltTokenDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListEltTokenDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTELTTOKEN$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/List", "ListEltToken");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1646432298:
+                if (name.equals(LISTELTTOKEN$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListEltToken" element
+     */
+    public java.util.List getListEltToken()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTELTTOKEN$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ListEltToken" element
+     */
+    public xbean.scomp.contentType.list.ListAnonGlobalT xgetListEltToken()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListAnonGlobalT target = null;
+            target = (xbean.scomp.contentType.list.ListAnonGlobalT)get_store().find_element_user(LISTELTTOKEN$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListEltToken" element
+     */
+    public void setListEltToken(java.util.List listEltToken)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTELTTOKEN$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LISTELTTOKEN$0);
+            }
+            target.setListValue(listEltToken);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ListEltToken" element
+     */
+    public void xsetListEltToken(xbean.scomp.contentType.list.ListAnonGlobalT listEltToken)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListAnonGlobalT target = null;
+            target = (xbean.scomp.contentType.list.ListAnonGlobalT)get_store().find_element_user(LISTELTTOKEN$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.list.ListAnonGlobalT)get_store().add_element_user(LISTELTTOKEN$0);
+            }
+            target.set(listEltToken);
+        }
+    }
+}
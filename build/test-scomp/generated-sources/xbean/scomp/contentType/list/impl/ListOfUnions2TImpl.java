@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ListOfUnions2T
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListOfUnions2T
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * An XML ListOfUnions2T(@http://xbean/scomp/contentType/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.union.UnionOfUnionsT.
+ */
+public class ListOfUnions2TImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.contentType.list.ListOfUnions2T
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListOfUnions2TImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListOfUnions2TImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ListOfUnionsT
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListOfUnionsT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * An XML ListOfUnionsT(@http://xbean/scomp/contentType/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.union.UnionAnonGlobalT.
+ */
+public class ListOfUnionsTImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.contentType.list.ListOfUnionsT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListOfUnionsTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListOfUnionsTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
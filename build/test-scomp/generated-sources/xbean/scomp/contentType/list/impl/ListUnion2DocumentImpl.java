@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ListUnion2
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListUnion2Document
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * A document containing one ListUnion2(@http://xbean/scomp/contentType/List) element.
+ *
+ * This is a complex type.
+ */
+public class ListUnion2DocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.list.ListUnion2Document
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListUnion2DocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTUNION2$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/List", "ListUnion2");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1885041247:
+                if (name.equals(LISTUNION2$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListUnion2" element
+     */
+    public java.util.List getListUnion2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTUNION2$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ListUnion2" element
+     */
+    public xbean.scomp.contentType.list.ListOfUnions2T xgetListUnion2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListOfUnions2T target = null;
+            target = (xbean.scomp.contentType.list.ListOfUnions2T)get_store().find_element_user(LISTUNION2$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListUnion2" element
+     */
+    public void setListUnion2(java.util.List listUnion2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTUNION2$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LISTUNION2$0);
+            }
+            target.setListValue(listUnion2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ListUnion2" element
+     */
+    public void xsetListUnion2(xbean.scomp.contentType.list.ListOfUnions2T listUnion2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListOfUnions2T target = null;
+            target = (xbean.scomp.contentType.list.ListOfUnions2T)get_store().find_element_user(LISTUNION2$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.list.ListOfUnions2T)get_store().add_element_user(LISTUNION2$0);
+            }
+            target.set(listUnion2);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ListUnion
+ * Namespace: http://xbean/scomp/contentType/List
+ * Java type: xbean.scomp.contentType.list.ListUnionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.list.impl;
+/**
+ * A document containing one ListUnion(@http://xbean/scomp/contentType/List) element.
+ *
+ * This is a complex type.
+ */
+public class ListUnionDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.list.ListUnionDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListUnionDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTUNION$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/List", "ListUnion");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 770476209:
+                if (name.equals(LISTUNION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListUnion" element
+     */
+    public java.util.List getListUnion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTUNION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ListUnion" element
+     */
+    public xbean.scomp.contentType.list.ListOfUnionsT xgetListUnion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListOfUnionsT target = null;
+            target = (xbean.scomp.contentType.list.ListOfUnionsT)get_store().find_element_user(LISTUNION$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListUnion" element
+     */
+    public void setListUnion(java.util.List listUnion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LISTUNION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LISTUNION$0);
+            }
+            target.setListValue(listUnion);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ListUnion" element
+     */
+    public void xsetListUnion(xbean.scomp.contentType.list.ListOfUnionsT listUnion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.list.ListOfUnionsT target = null;
+            target = (xbean.scomp.contentType.list.ListOfUnionsT)get_store().find_element_user(LISTUNION$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.list.ListOfUnionsT)get_store().add_element_user(LISTUNION$0);
+            }
+            target.set(listUnion);
+        }
+    }
+}
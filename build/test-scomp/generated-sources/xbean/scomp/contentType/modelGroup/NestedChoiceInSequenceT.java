@@ -0,0 +1,246 @@
+/*
+ * XML Type:  NestedChoiceInSequenceT
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup;
+
+
+/**
+ * An XML NestedChoiceInSequenceT(@http://xbean/scomp/contentType/ModelGroup).
+ *
+ * This is a complex type.
+ */
+public interface NestedChoiceInSequenceT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(NestedChoiceInSequenceT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("nestedchoiceinsequencet6d45type");
+    
+    /**
+     * Gets the "childStr" element
+     */
+    java.lang.String getChildStr();
+    
+    /**
+     * Gets (as xml) the "childStr" element
+     */
+    org.apache.xmlbeans.XmlString xgetChildStr();
+    
+    /**
+     * Sets the "childStr" element
+     */
+    void setChildStr(java.lang.String childStr);
+    
+    /**
+     * Sets (as xml) the "childStr" element
+     */
+    void xsetChildStr(org.apache.xmlbeans.XmlString childStr);
+    
+    /**
+     * Gets the "childInt" element
+     */
+    int getChildInt();
+    
+    /**
+     * Gets (as xml) the "childInt" element
+     */
+    org.apache.xmlbeans.XmlInt xgetChildInt();
+    
+    /**
+     * Sets the "childInt" element
+     */
+    void setChildInt(int childInt);
+    
+    /**
+     * Sets (as xml) the "childInt" element
+     */
+    void xsetChildInt(org.apache.xmlbeans.XmlInt childInt);
+    
+    /**
+     * Gets the "optchildStr" element
+     */
+    java.lang.String getOptchildStr();
+    
+    /**
+     * Gets (as xml) the "optchildStr" element
+     */
+    org.apache.xmlbeans.XmlString xgetOptchildStr();
+    
+    /**
+     * True if has "optchildStr" element
+     */
+    boolean isSetOptchildStr();
+    
+    /**
+     * Sets the "optchildStr" element
+     */
+    void setOptchildStr(java.lang.String optchildStr);
+    
+    /**
+     * Sets (as xml) the "optchildStr" element
+     */
+    void xsetOptchildStr(org.apache.xmlbeans.XmlString optchildStr);
+    
+    /**
+     * Unsets the "optchildStr" element
+     */
+    void unsetOptchildStr();
+    
+    /**
+     * Gets the "optchildInt" element
+     */
+    int getOptchildInt();
+    
+    /**
+     * Gets (as xml) the "optchildInt" element
+     */
+    org.apache.xmlbeans.XmlInt xgetOptchildInt();
+    
+    /**
+     * True if has "optchildInt" element
+     */
+    boolean isSetOptchildInt();
+    
+    /**
+     * Sets the "optchildInt" element
+     */
+    void setOptchildInt(int optchildInt);
+    
+    /**
+     * Sets (as xml) the "optchildInt" element
+     */
+    void xsetOptchildInt(org.apache.xmlbeans.XmlInt optchildInt);
+    
+    /**
+     * Unsets the "optchildInt" element
+     */
+    void unsetOptchildInt();
+    
+    /**
+     * Gets the "optchildDouble" element
+     */
+    double getOptchildDouble();
+    
+    /**
+     * Gets (as xml) the "optchildDouble" element
+     */
+    org.apache.xmlbeans.XmlDouble xgetOptchildDouble();
+    
+    /**
+     * True if has "optchildDouble" element
+     */
+    boolean isSetOptchildDouble();
+    
+    /**
+     * Sets the "optchildDouble" element
+     */
+    void setOptchildDouble(double optchildDouble);
+    
+    /**
+     * Sets (as xml) the "optchildDouble" element
+     */
+    void xsetOptchildDouble(org.apache.xmlbeans.XmlDouble optchildDouble);
+    
+    /**
+     * Unsets the "optchildDouble" element
+     */
+    void unsetOptchildDouble();
+    
+    /**
+     * Gets the "childDouble" element
+     */
+    double getChildDouble();
+    
+    /**
+     * Gets (as xml) the "childDouble" element
+     */
+    org.apache.xmlbeans.XmlDouble xgetChildDouble();
+    
+    /**
+     * Sets the "childDouble" element
+     */
+    void setChildDouble(double childDouble);
+    
+    /**
+     * Sets (as xml) the "childDouble" element
+     */
+    void xsetChildDouble(org.apache.xmlbeans.XmlDouble childDouble);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT newInstance() {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * XML Type:  SequenceT
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.SequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup;
+
+
+/**
+ * An XML SequenceT(@http://xbean/scomp/contentType/ModelGroup).
+ *
+ * This is a complex type.
+ */
+public interface SequenceT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SequenceT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("sequencetd182type");
+    
+    /**
+     * Gets the "child1" element
+     */
+    java.math.BigInteger getChild1();
+    
+    /**
+     * Gets (as xml) the "child1" element
+     */
+    org.apache.xmlbeans.XmlInteger xgetChild1();
+    
+    /**
+     * Sets the "child1" element
+     */
+    void setChild1(java.math.BigInteger child1);
+    
+    /**
+     * Sets (as xml) the "child1" element
+     */
+    void xsetChild1(org.apache.xmlbeans.XmlInteger child1);
+    
+    /**
+     * Gets array of all "child2" elements
+     */
+    java.lang.String[] getChild2Array();
+    
+    /**
+     * Gets ith "child2" element
+     */
+    java.lang.String getChild2Array(int i);
+    
+    /**
+     * Gets (as xml) array of all "child2" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetChild2Array();
+    
+    /**
+     * Gets (as xml) ith "child2" element
+     */
+    org.apache.xmlbeans.XmlString xgetChild2Array(int i);
+    
+    /**
+     * Returns number of "child2" element
+     */
+    int sizeOfChild2Array();
+    
+    /**
+     * Sets array of all "child2" element
+     */
+    void setChild2Array(java.lang.String[] child2Array);
+    
+    /**
+     * Sets ith "child2" element
+     */
+    void setChild2Array(int i, java.lang.String child2);
+    
+    /**
+     * Sets (as xml) array of all "child2" element
+     */
+    void xsetChild2Array(org.apache.xmlbeans.XmlString[] child2Array);
+    
+    /**
+     * Sets (as xml) ith "child2" element
+     */
+    void xsetChild2Array(int i, org.apache.xmlbeans.XmlString child2);
+    
+    /**
+     * Inserts the value as the ith "child2" element
+     */
+    void insertChild2(int i, java.lang.String child2);
+    
+    /**
+     * Appends the value as the last "child2" element
+     */
+    void addChild2(java.lang.String child2);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "child2" element
+     */
+    org.apache.xmlbeans.XmlString insertNewChild2(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "child2" element
+     */
+    org.apache.xmlbeans.XmlString addNewChild2();
+    
+    /**
+     * Removes the ith "child2" element
+     */
+    void removeChild2(int i);
+    
+    /**
+     * Gets array of all "child3" elements
+     */
+    java.math.BigInteger[] getChild3Array();
+    
+    /**
+     * Gets ith "child3" element
+     */
+    java.math.BigInteger getChild3Array(int i);
+    
+    /**
+     * Gets (as xml) array of all "child3" elements
+     */
+    org.apache.xmlbeans.XmlInteger[] xgetChild3Array();
+    
+    /**
+     * Gets (as xml) ith "child3" element
+     */
+    org.apache.xmlbeans.XmlInteger xgetChild3Array(int i);
+    
+    /**
+     * Returns number of "child3" element
+     */
+    int sizeOfChild3Array();
+    
+    /**
+     * Sets array of all "child3" element
+     */
+    void setChild3Array(java.math.BigInteger[] child3Array);
+    
+    /**
+     * Sets ith "child3" element
+     */
+    void setChild3Array(int i, java.math.BigInteger child3);
+    
+    /**
+     * Sets (as xml) array of all "child3" element
+     */
+    void xsetChild3Array(org.apache.xmlbeans.XmlInteger[] child3Array);
+    
+    /**
+     * Sets (as xml) ith "child3" element
+     */
+    void xsetChild3Array(int i, org.apache.xmlbeans.XmlInteger child3);
+    
+    /**
+     * Inserts the value as the ith "child3" element
+     */
+    void insertChild3(int i, java.math.BigInteger child3);
+    
+    /**
+     * Appends the value as the last "child3" element
+     */
+    void addChild3(java.math.BigInteger child3);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "child3" element
+     */
+    org.apache.xmlbeans.XmlInteger insertNewChild3(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "child3" element
+     */
+    org.apache.xmlbeans.XmlInteger addNewChild3();
+    
+    /**
+     * Removes the ith "child3" element
+     */
+    void removeChild3(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.contentType.modelGroup.SequenceT newInstance() {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.contentType.modelGroup.SequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.contentType.modelGroup.SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AllElt
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.AllEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * A document containing one AllElt(@http://xbean/scomp/contentType/ModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class AllEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.AllEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AllEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ALLELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ModelGroup", "AllElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1963922284:
+                if (name.equals(ALLELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AllElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.AllT getAllElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.AllT target = null;
+            target = (xbean.scomp.contentType.modelGroup.AllT)get_store().find_element_user(ALLELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AllElt" element
+     */
+    public void setAllElt(xbean.scomp.contentType.modelGroup.AllT allElt)
+    {
+        generatedSetterHelperImpl(allElt, ALLELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AllElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.AllT addNewAllElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.AllT target = null;
+            target = (xbean.scomp.contentType.modelGroup.AllT)get_store().add_element_user(ALLELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ChoiceElt
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.ChoiceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * A document containing one ChoiceElt(@http://xbean/scomp/contentType/ModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class ChoiceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.ChoiceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ChoiceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHOICEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ModelGroup", "ChoiceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1442454740:
+                if (name.equals(CHOICEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ChoiceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.ChoiceT getChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.ChoiceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.ChoiceT)get_store().find_element_user(CHOICEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ChoiceElt" element
+     */
+    public void setChoiceElt(xbean.scomp.contentType.modelGroup.ChoiceT choiceElt)
+    {
+        generatedSetterHelperImpl(choiceElt, CHOICEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ChoiceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.ChoiceT addNewChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.ChoiceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.ChoiceT)get_store().add_element_user(CHOICEELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: MixedChoiceElt
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.MixedChoiceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * A document containing one MixedChoiceElt(@http://xbean/scomp/contentType/ModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class MixedChoiceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.MixedChoiceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedChoiceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXEDCHOICEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ModelGroup", "MixedChoiceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 866741681:
+                if (name.equals(MIXEDCHOICEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MixedChoiceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.MixedChoiceT getMixedChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.MixedChoiceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.MixedChoiceT)get_store().find_element_user(MIXEDCHOICEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MixedChoiceElt" element
+     */
+    public void setMixedChoiceElt(xbean.scomp.contentType.modelGroup.MixedChoiceT mixedChoiceElt)
+    {
+        generatedSetterHelperImpl(mixedChoiceElt, MIXEDCHOICEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MixedChoiceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.MixedChoiceT addNewMixedChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.MixedChoiceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.MixedChoiceT)get_store().add_element_user(MIXEDCHOICEELT$0);
+            return target;
+        }
+    }
+}
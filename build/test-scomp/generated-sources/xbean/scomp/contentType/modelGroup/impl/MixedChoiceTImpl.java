@@ -0,0 +1,562 @@
+/*
+ * XML Type:  MixedChoiceT
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.MixedChoiceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * An XML MixedChoiceT(@http://xbean/scomp/contentType/ModelGroup).
+ *
+ * This is a complex type.
+ */
+public class MixedChoiceTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.MixedChoiceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedChoiceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILD1$0 = 
+        new javax.xml.namespace.QName("", "child1");
+    private static final javax.xml.namespace.QName CHILD2$2 = 
+        new javax.xml.namespace.QName("", "child2");
+    private static final javax.xml.namespace.QName CHILD3$4 = 
+        new javax.xml.namespace.QName("", "child3");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1361400171:
+                if (name.equals(CHILD1$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1361400170:
+                if (name.equals(CHILD2$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1361400169:
+                if (name.equals(CHILD3$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "child1" element
+     */
+    public java.math.BigInteger getChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "child1" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD1$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "child1" element
+     */
+    public boolean isSetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CHILD1$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "child1" element
+     */
+    public void setChild1(java.math.BigInteger child1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD1$0);
+            }
+            target.setBigIntegerValue(child1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "child1" element
+     */
+    public void xsetChild1(org.apache.xmlbeans.XmlInteger child1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD1$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD1$0);
+            }
+            target.set(child1);
+        }
+    }
+    
+    /**
+     * Unsets the "child1" element
+     */
+    public void unsetChild1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CHILD1$0, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "child2" elements
+     */
+    public java.lang.String[] getChild2Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD2$2, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "child2" element
+     */
+    public java.lang.String getChild2Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD2$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "child2" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetChild2Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD2$2, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "child2" element
+     */
+    public org.apache.xmlbeans.XmlString xgetChild2Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CHILD2$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "child2" element
+     */
+    public int sizeOfChild2Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CHILD2$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "child2" element
+     */
+    public void setChild2Array(java.lang.String[] child2Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child2Array, CHILD2$2);
+        }
+    }
+    
+    /**
+     * Sets ith "child2" element
+     */
+    public void setChild2Array(int i, java.lang.String child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD2$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(child2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "child2" element
+     */
+    public void xsetChild2Array(org.apache.xmlbeans.XmlString[]child2Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child2Array, CHILD2$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "child2" element
+     */
+    public void xsetChild2Array(int i, org.apache.xmlbeans.XmlString child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CHILD2$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(child2);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "child2" element
+     */
+    public void insertChild2(int i, java.lang.String child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(CHILD2$2, i);
+            target.setStringValue(child2);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "child2" element
+     */
+    public void addChild2(java.lang.String child2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD2$2);
+            target.setStringValue(child2);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "child2" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewChild2(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(CHILD2$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "child2" element
+     */
+    public org.apache.xmlbeans.XmlString addNewChild2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CHILD2$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "child2" element
+     */
+    public void removeChild2(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CHILD2$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "child3" elements
+     */
+    public java.math.BigInteger[] getChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD3$4, targetList);
+            java.math.BigInteger[] result = new java.math.BigInteger[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getBigIntegerValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "child3" element
+     */
+    public java.math.BigInteger getChild3Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "child3" elements
+     */
+    public org.apache.xmlbeans.XmlInteger[] xgetChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD3$4, targetList);
+            org.apache.xmlbeans.XmlInteger[] result = new org.apache.xmlbeans.XmlInteger[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild3Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "child3" element
+     */
+    public int sizeOfChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CHILD3$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "child3" element
+     */
+    public void setChild3Array(java.math.BigInteger[] child3Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child3Array, CHILD3$4);
+        }
+    }
+    
+    /**
+     * Sets ith "child3" element
+     */
+    public void setChild3Array(int i, java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "child3" element
+     */
+    public void xsetChild3Array(org.apache.xmlbeans.XmlInteger[]child3Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child3Array, CHILD3$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "child3" element
+     */
+    public void xsetChild3Array(int i, org.apache.xmlbeans.XmlInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(child3);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "child3" element
+     */
+    public void insertChild3(int i, java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(CHILD3$4, i);
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "child3" element
+     */
+    public void addChild3(java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD3$4);
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger insertNewChild3(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().insert_element_user(CHILD3$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger addNewChild3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD3$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "child3" element
+     */
+    public void removeChild3(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CHILD3$4, i);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: NestedChoiceInSequence
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * A document containing one NestedChoiceInSequence(@http://xbean/scomp/contentType/ModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class NestedChoiceInSequenceDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NestedChoiceInSequenceDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NESTEDCHOICEINSEQUENCE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ModelGroup", "NestedChoiceInSequence");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -72229954:
+                if (name.equals(NESTEDCHOICEINSEQUENCE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NestedChoiceInSequence" element
+     */
+    public xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT getNestedChoiceInSequence()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT)get_store().find_element_user(NESTEDCHOICEINSEQUENCE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NestedChoiceInSequence" element
+     */
+    public void setNestedChoiceInSequence(xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT nestedChoiceInSequence)
+    {
+        generatedSetterHelperImpl(nestedChoiceInSequence, NESTEDCHOICEINSEQUENCE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NestedChoiceInSequence" element
+     */
+    public xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT addNewNestedChoiceInSequence()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT)get_store().add_element_user(NESTEDCHOICEINSEQUENCE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * XML Type:  NestedChoiceInSequenceT
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * An XML NestedChoiceInSequenceT(@http://xbean/scomp/contentType/ModelGroup).
+ *
+ * This is a complex type.
+ */
+public class NestedChoiceInSequenceTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.NestedChoiceInSequenceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NestedChoiceInSequenceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILDSTR$0 = 
+        new javax.xml.namespace.QName("", "childStr");
+    private static final javax.xml.namespace.QName CHILDINT$2 = 
+        new javax.xml.namespace.QName("", "childInt");
+    private static final javax.xml.namespace.QName OPTCHILDSTR$4 = 
+        new javax.xml.namespace.QName("", "optchildStr");
+    private static final javax.xml.namespace.QName OPTCHILDINT$6 = 
+        new javax.xml.namespace.QName("", "optchildInt");
+    private static final javax.xml.namespace.QName OPTCHILDDOUBLE$8 = 
+        new javax.xml.namespace.QName("", "optchildDouble");
+    private static final javax.xml.namespace.QName CHILDDOUBLE$10 = 
+        new javax.xml.namespace.QName("", "childDouble");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1717364723:
+                if (name.equals(CHILDDOUBLE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case 20386022:
+                if (name.equals(OPTCHILDINT$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 20395816:
+                if (name.equals(OPTCHILDSTR$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1587497850:
+                if (name.equals(OPTCHILDDOUBLE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1659487539:
+                if (name.equals(CHILDINT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1659497333:
+                if (name.equals(CHILDSTR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "childStr" element
+     */
+    public java.lang.String getChildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDSTR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "childStr" element
+     */
+    public org.apache.xmlbeans.XmlString xgetChildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CHILDSTR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "childStr" element
+     */
+    public void setChildStr(java.lang.String childStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILDSTR$0);
+            }
+            target.setStringValue(childStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "childStr" element
+     */
+    public void xsetChildStr(org.apache.xmlbeans.XmlString childStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CHILDSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CHILDSTR$0);
+            }
+            target.set(childStr);
+        }
+    }
+    
+    /**
+     * Gets the "childInt" element
+     */
+    public int getChildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(CHILDINT$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDINT$2, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "childInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetChildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(CHILDINT$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "childInt" element
+     */
+    public void setChildInt(int childInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDINT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILDINT$2);
+            }
+            target.setIntValue(childInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "childInt" element
+     */
+    public void xsetChildInt(org.apache.xmlbeans.XmlInt childInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(CHILDINT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(CHILDINT$2);
+            }
+            target.set(childInt);
+        }
+    }
+    
+    /**
+     * Gets the "optchildStr" element
+     */
+    public java.lang.String getOptchildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDSTR$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "optchildStr" element
+     */
+    public org.apache.xmlbeans.XmlString xgetOptchildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(OPTCHILDSTR$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "optchildStr" element
+     */
+    public boolean isSetOptchildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(OPTCHILDSTR$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "optchildStr" element
+     */
+    public void setOptchildStr(java.lang.String optchildStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDSTR$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OPTCHILDSTR$4);
+            }
+            target.setStringValue(optchildStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "optchildStr" element
+     */
+    public void xsetOptchildStr(org.apache.xmlbeans.XmlString optchildStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(OPTCHILDSTR$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(OPTCHILDSTR$4);
+            }
+            target.set(optchildStr);
+        }
+    }
+    
+    /**
+     * Unsets the "optchildStr" element
+     */
+    public void unsetOptchildStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(OPTCHILDSTR$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "optchildInt" element
+     */
+    public int getOptchildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(OPTCHILDINT$6, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDINT$6, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "optchildInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetOptchildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(OPTCHILDINT$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "optchildInt" element
+     */
+    public boolean isSetOptchildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(OPTCHILDINT$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "optchildInt" element
+     */
+    public void setOptchildInt(int optchildInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDINT$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OPTCHILDINT$6);
+            }
+            target.setIntValue(optchildInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "optchildInt" element
+     */
+    public void xsetOptchildInt(org.apache.xmlbeans.XmlInt optchildInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(OPTCHILDINT$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(OPTCHILDINT$6);
+            }
+            target.set(optchildInt);
+        }
+    }
+    
+    /**
+     * Unsets the "optchildInt" element
+     */
+    public void unsetOptchildInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(OPTCHILDINT$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "optchildDouble" element
+     */
+    public double getOptchildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(OPTCHILDDOUBLE$8, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexDouble(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDDOUBLE$8, 0);
+            if (target == null)
+            {
+                return 0.0;
+            }
+            return target.getDoubleValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "optchildDouble" element
+     */
+    public org.apache.xmlbeans.XmlDouble xgetOptchildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(OPTCHILDDOUBLE$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "optchildDouble" element
+     */
+    public boolean isSetOptchildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(OPTCHILDDOUBLE$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "optchildDouble" element
+     */
+    public void setOptchildDouble(double optchildDouble)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTCHILDDOUBLE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OPTCHILDDOUBLE$8);
+            }
+            target.setDoubleValue(optchildDouble);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "optchildDouble" element
+     */
+    public void xsetOptchildDouble(org.apache.xmlbeans.XmlDouble optchildDouble)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(OPTCHILDDOUBLE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDouble)get_store().add_element_user(OPTCHILDDOUBLE$8);
+            }
+            target.set(optchildDouble);
+        }
+    }
+    
+    /**
+     * Unsets the "optchildDouble" element
+     */
+    public void unsetOptchildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(OPTCHILDDOUBLE$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "childDouble" element
+     */
+    public double getChildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(CHILDDOUBLE$10, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexDouble(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDDOUBLE$10, 0);
+            if (target == null)
+            {
+                return 0.0;
+            }
+            return target.getDoubleValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "childDouble" element
+     */
+    public org.apache.xmlbeans.XmlDouble xgetChildDouble()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(CHILDDOUBLE$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "childDouble" element
+     */
+    public void setChildDouble(double childDouble)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILDDOUBLE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILDDOUBLE$10);
+            }
+            target.setDoubleValue(childDouble);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "childDouble" element
+     */
+    public void xsetChildDouble(org.apache.xmlbeans.XmlDouble childDouble)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDouble target = null;
+            target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(CHILDDOUBLE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDouble)get_store().add_element_user(CHILDDOUBLE$10);
+            }
+            target.set(childDouble);
+        }
+    }
+}
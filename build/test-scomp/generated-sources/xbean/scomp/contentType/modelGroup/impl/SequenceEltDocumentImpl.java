@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SequenceElt
+ * Namespace: http://xbean/scomp/contentType/ModelGroup
+ * Java type: xbean.scomp.contentType.modelGroup.SequenceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.modelGroup.impl;
+/**
+ * A document containing one SequenceElt(@http://xbean/scomp/contentType/ModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class SequenceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.modelGroup.SequenceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SequenceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SEQUENCEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/ModelGroup", "SequenceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 862625036:
+                if (name.equals(SEQUENCEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SequenceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.SequenceT getSequenceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.SequenceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.SequenceT)get_store().find_element_user(SEQUENCEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SequenceElt" element
+     */
+    public void setSequenceElt(xbean.scomp.contentType.modelGroup.SequenceT sequenceElt)
+    {
+        generatedSetterHelperImpl(sequenceElt, SEQUENCEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SequenceElt" element
+     */
+    public xbean.scomp.contentType.modelGroup.SequenceT addNewSequenceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.modelGroup.SequenceT target = null;
+            target = (xbean.scomp.contentType.modelGroup.SequenceT)get_store().add_element_user(SEQUENCEELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: NamedElt
+ * Namespace: http://xbean/scomp/contentType/Named
+ * Java type: xbean.scomp.contentType.named.NamedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.named.impl;
+/**
+ * A document containing one NamedElt(@http://xbean/scomp/contentType/Named) element.
+ *
+ * This is a complex type.
+ */
+public class NamedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.named.NamedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NamedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/Named", "NamedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1905665748:
+                if (name.equals(NAMEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NamedElt" element
+     */
+    public xbean.scomp.contentType.named.ElementT getNamedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.named.ElementT target = null;
+            target = (xbean.scomp.contentType.named.ElementT)get_store().find_element_user(NAMEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NamedElt" element
+     */
+    public void setNamedElt(xbean.scomp.contentType.named.ElementT namedElt)
+    {
+        generatedSetterHelperImpl(namedElt, NAMEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NamedElt" element
+     */
+    public xbean.scomp.contentType.named.ElementT addNewNamedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.named.ElementT target = null;
+            target = (xbean.scomp.contentType.named.ElementT)get_store().add_element_user(NAMEDELT$0);
+            return target;
+        }
+    }
+}
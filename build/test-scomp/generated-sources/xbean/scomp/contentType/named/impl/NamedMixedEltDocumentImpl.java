@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: NamedMixedElt
+ * Namespace: http://xbean/scomp/contentType/Named
+ * Java type: xbean.scomp.contentType.named.NamedMixedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.named.impl;
+/**
+ * A document containing one NamedMixedElt(@http://xbean/scomp/contentType/Named) element.
+ *
+ * This is a complex type.
+ */
+public class NamedMixedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.named.NamedMixedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NamedMixedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEDMIXEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/Named", "NamedMixedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 184344811:
+                if (name.equals(NAMEDMIXEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NamedMixedElt" element
+     */
+    public xbean.scomp.contentType.named.MixedT getNamedMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.named.MixedT target = null;
+            target = (xbean.scomp.contentType.named.MixedT)get_store().find_element_user(NAMEDMIXEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NamedMixedElt" element
+     */
+    public void setNamedMixedElt(xbean.scomp.contentType.named.MixedT namedMixedElt)
+    {
+        generatedSetterHelperImpl(namedMixedElt, NAMEDMIXEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NamedMixedElt" element
+     */
+    public xbean.scomp.contentType.named.MixedT addNewNamedMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.named.MixedT target = null;
+            target = (xbean.scomp.contentType.named.MixedT)get_store().add_element_user(NAMEDMIXEDELT$0);
+            return target;
+        }
+    }
+}
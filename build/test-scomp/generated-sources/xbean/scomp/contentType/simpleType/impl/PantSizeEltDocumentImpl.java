@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: PantSizeElt
+ * Namespace: http://xbean/scomp/contentType/SimpleType
+ * Java type: xbean.scomp.contentType.simpleType.PantSizeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.simpleType.impl;
+/**
+ * A document containing one PantSizeElt(@http://xbean/scomp/contentType/SimpleType) element.
+ *
+ * This is a complex type.
+ */
+public class PantSizeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.simpleType.PantSizeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PantSizeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PANTSIZEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/SimpleType", "PantSizeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1082917547:
+                if (name.equals(PANTSIZEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "PantSizeElt" element
+     */
+    public int getPantSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(PANTSIZEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "PantSizeElt" element
+     */
+    public xbean.scomp.contentType.simpleType.PantSize xgetPantSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.simpleType.PantSize target = null;
+            target = (xbean.scomp.contentType.simpleType.PantSize)get_store().find_element_user(PANTSIZEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "PantSizeElt" element
+     */
+    public void setPantSizeElt(int pantSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PANTSIZEELT$0);
+            }
+            target.setIntValue(pantSizeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "PantSizeElt" element
+     */
+    public void xsetPantSizeElt(xbean.scomp.contentType.simpleType.PantSize pantSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.simpleType.PantSize target = null;
+            target = (xbean.scomp.contentType.simpleType.PantSize)get_store().find_element_user(PANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.simpleType.PantSize)get_store().add_element_user(PANTSIZEELT$0);
+            }
+            target.set(pantSizeElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  PantSize
+ * Namespace: http://xbean/scomp/contentType/SimpleType
+ * Java type: xbean.scomp.contentType.simpleType.PantSize
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.simpleType.impl;
+/**
+ * An XML PantSize(@http://xbean/scomp/contentType/SimpleType).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.contentType.simpleType.PantSize.
+ */
+public class PantSizeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.contentType.simpleType.PantSize
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PantSizeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected PantSizeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  GlobalSimpleT2
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.GlobalSimpleT2
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * An XML GlobalSimpleT2(@http://xbean/scomp/contentType/Union).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.contentType.union.GlobalSimpleT2.
+ */
+public class GlobalSimpleT2Impl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.contentType.union.GlobalSimpleT2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalSimpleT2Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected GlobalSimpleT2Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
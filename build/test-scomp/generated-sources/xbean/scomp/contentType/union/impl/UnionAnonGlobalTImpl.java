@@ -0,0 +1,49 @@
+/*
+ * XML Type:  UnionAnonGlobalT
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionAnonGlobalT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * An XML UnionAnonGlobalT(@http://xbean/scomp/contentType/Union).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.contentType.union.GlobalSimpleT1
+ *     xbean.scomp.contentType.union.GlobalSimpleT2
+ *     xbean.scomp.contentType.union.UnionAnonGlobalT$Member
+ */
+public class UnionAnonGlobalTImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.contentType.union.UnionAnonGlobalT, xbean.scomp.contentType.union.GlobalSimpleT1, xbean.scomp.contentType.union.GlobalSimpleT2, xbean.scomp.contentType.union.UnionAnonGlobalT.Member
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionAnonGlobalTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected UnionAnonGlobalTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of xbean.scomp.contentType.union.UnionAnonGlobalT$Member.
+     */
+    public static class MemberImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements xbean.scomp.contentType.union.UnionAnonGlobalT.Member
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MemberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected MemberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnionElt
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * A document containing one UnionElt(@http://xbean/scomp/contentType/Union) element.
+ *
+ * This is a complex type.
+ */
+public class UnionEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.union.UnionEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/Union", "UnionElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -231901314:
+                if (name.equals(UNIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnionElt" element
+     */
+    public java.lang.Object getUnionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getObjectValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnionElt" element
+     */
+    public xbean.scomp.contentType.union.UnionAnonGlobalT xgetUnionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionAnonGlobalT target = null;
+            target = (xbean.scomp.contentType.union.UnionAnonGlobalT)get_store().find_element_user(UNIONELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnionElt" element
+     */
+    public void setUnionElt(java.lang.Object unionElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIONELT$0);
+            }
+            target.setObjectValue(unionElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnionElt" element
+     */
+    public void xsetUnionElt(xbean.scomp.contentType.union.UnionAnonGlobalT unionElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionAnonGlobalT target = null;
+            target = (xbean.scomp.contentType.union.UnionAnonGlobalT)get_store().find_element_user(UNIONELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.union.UnionAnonGlobalT)get_store().add_element_user(UNIONELT$0);
+            }
+            target.set(unionElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnionOfLists
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionOfListsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * A document containing one UnionOfLists(@http://xbean/scomp/contentType/Union) element.
+ *
+ * This is a complex type.
+ */
+public class UnionOfListsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.union.UnionOfListsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionOfListsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONOFLISTS$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/Union", "UnionOfLists");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1404530097:
+                if (name.equals(UNIONOFLISTS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnionOfLists" element
+     */
+    public java.util.List getUnionOfLists()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONOFLISTS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnionOfLists" element
+     */
+    public xbean.scomp.contentType.union.UnionOfListsT xgetUnionOfLists()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionOfListsT target = null;
+            target = (xbean.scomp.contentType.union.UnionOfListsT)get_store().find_element_user(UNIONOFLISTS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnionOfLists" element
+     */
+    public void setUnionOfLists(java.util.List unionOfLists)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONOFLISTS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIONOFLISTS$0);
+            }
+            target.setListValue(unionOfLists);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnionOfLists" element
+     */
+    public void xsetUnionOfLists(xbean.scomp.contentType.union.UnionOfListsT unionOfLists)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionOfListsT target = null;
+            target = (xbean.scomp.contentType.union.UnionOfListsT)get_store().find_element_user(UNIONOFLISTS$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.union.UnionOfListsT)get_store().add_element_user(UNIONOFLISTS$0);
+            }
+            target.set(unionOfLists);
+        }
+    }
+}
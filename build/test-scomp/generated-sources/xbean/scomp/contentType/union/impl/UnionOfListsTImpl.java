@@ -0,0 +1,29 @@
+/*
+ * XML Type:  UnionOfListsT
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionOfListsT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * An XML UnionOfListsT(@http://xbean/scomp/contentType/Union).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.contentType.list.ListOfUnions2T
+ *     xbean.scomp.contentType.list.ListAnonGlobalT
+ */
+public class UnionOfListsTImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.contentType.union.UnionOfListsT, xbean.scomp.contentType.list.ListOfUnions2T, xbean.scomp.contentType.list.ListAnonGlobalT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionOfListsTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected UnionOfListsTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
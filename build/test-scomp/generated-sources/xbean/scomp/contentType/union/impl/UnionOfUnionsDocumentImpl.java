@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnionOfUnions
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionOfUnionsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * A document containing one UnionOfUnions(@http://xbean/scomp/contentType/Union) element.
+ *
+ * This is a complex type.
+ */
+public class UnionOfUnionsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.contentType.union.UnionOfUnionsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionOfUnionsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONOFUNIONS$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/contentType/Union", "UnionOfUnions");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -328782838:
+                if (name.equals(UNIONOFUNIONS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnionOfUnions" element
+     */
+    public java.lang.Object getUnionOfUnions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONOFUNIONS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getObjectValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnionOfUnions" element
+     */
+    public xbean.scomp.contentType.union.UnionOfUnionsT xgetUnionOfUnions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionOfUnionsT target = null;
+            target = (xbean.scomp.contentType.union.UnionOfUnionsT)get_store().find_element_user(UNIONOFUNIONS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnionOfUnions" element
+     */
+    public void setUnionOfUnions(java.lang.Object unionOfUnions)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONOFUNIONS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIONOFUNIONS$0);
+            }
+            target.setObjectValue(unionOfUnions);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnionOfUnions" element
+     */
+    public void xsetUnionOfUnions(xbean.scomp.contentType.union.UnionOfUnionsT unionOfUnions)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.contentType.union.UnionOfUnionsT target = null;
+            target = (xbean.scomp.contentType.union.UnionOfUnionsT)get_store().find_element_user(UNIONOFUNIONS$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.contentType.union.UnionOfUnionsT)get_store().add_element_user(UNIONOFUNIONS$0);
+            }
+            target.set(unionOfUnions);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * XML Type:  UnionOfUnionsT
+ * Namespace: http://xbean/scomp/contentType/Union
+ * Java type: xbean.scomp.contentType.union.UnionOfUnionsT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.contentType.union.impl;
+/**
+ * An XML UnionOfUnionsT(@http://xbean/scomp/contentType/Union).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.contentType.union.UnionT2$Member
+ *     xbean.scomp.contentType.union.UnionT2$Member2
+ *     xbean.scomp.contentType.union.GlobalSimpleT1
+ *     xbean.scomp.contentType.union.GlobalSimpleT2
+ *     xbean.scomp.contentType.union.UnionAnonGlobalT$Member
+ */
+public class UnionOfUnionsTImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.contentType.union.UnionOfUnionsT, xbean.scomp.contentType.union.UnionT2, xbean.scomp.contentType.union.UnionAnonGlobalT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionOfUnionsTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected UnionOfUnionsTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
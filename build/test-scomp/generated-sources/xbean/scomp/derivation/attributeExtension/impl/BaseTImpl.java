@@ -0,0 +1,228 @@
+/*
+ * XML Type:  baseT
+ * Namespace: http://xbean/scomp/derivation/AttributeExtension
+ * Java type: xbean.scomp.derivation.attributeExtension.BaseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeExtension.impl;
+/**
+ * An XML baseT(@http://xbean/scomp/derivation/AttributeExtension).
+ *
+ * This is a complex type.
+ */
+public class BaseTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeExtension.BaseT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTEINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattributeInt");
+    private static final javax.xml.namespace.QName TESTATTRIBUTE$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattribute");
+    
+    
+    /**
+     * Gets the "testattributeInt" attribute
+     */
+    public java.math.BigInteger getTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTEINT$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattributeInt" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_default_attribute_value(TESTATTRIBUTEINT$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattributeInt" attribute
+     */
+    public boolean isSetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTEINT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattributeInt" attribute
+     */
+    public void setTestattributeInt(java.math.BigInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTEINT$0);
+            }
+            target.setBigIntegerValue(testattributeInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattributeInt" attribute
+     */
+    public void xsetTestattributeInt(org.apache.xmlbeans.XmlInteger testattributeInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(TESTATTRIBUTEINT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(TESTATTRIBUTEINT$0);
+            }
+            target.set(testattributeInt);
+        }
+    }
+    
+    /**
+     * Unsets the "testattributeInt" attribute
+     */
+    public void unsetTestattributeInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTEINT$0);
+        }
+    }
+    
+    /**
+     * Gets the "testattribute" attribute
+     */
+    public java.lang.String getTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTE$2);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(TESTATTRIBUTE$2);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattribute" attribute
+     */
+    public boolean isSetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTE$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattribute" attribute
+     */
+    public void setTestattribute(java.lang.String testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTE$2);
+            }
+            target.setStringValue(testattribute);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattribute" attribute
+     */
+    public void xsetTestattribute(org.apache.xmlbeans.XmlString testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTE$2);
+            }
+            target.set(testattribute);
+        }
+    }
+    
+    /**
+     * Unsets the "testattribute" attribute
+     */
+    public void unsetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTE$2);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ExtendedElement
+ * Namespace: http://xbean/scomp/derivation/AttributeExtension
+ * Java type: xbean.scomp.derivation.attributeExtension.ExtendedElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeExtension.impl;
+/**
+ * A document containing one ExtendedElement(@http://xbean/scomp/derivation/AttributeExtension) element.
+ *
+ * This is a complex type.
+ */
+public class ExtendedElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeExtension.ExtendedElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeExtension", "ExtendedElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1365942429:
+                if (name.equals(EXTENDEDELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ExtendedElement" element
+     */
+    public xbean.scomp.derivation.attributeExtension.ExtendedT getExtendedElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeExtension.ExtendedT target = null;
+            target = (xbean.scomp.derivation.attributeExtension.ExtendedT)get_store().find_element_user(EXTENDEDELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ExtendedElement" element
+     */
+    public void setExtendedElement(xbean.scomp.derivation.attributeExtension.ExtendedT extendedElement)
+    {
+        generatedSetterHelperImpl(extendedElement, EXTENDEDELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ExtendedElement" element
+     */
+    public xbean.scomp.derivation.attributeExtension.ExtendedT addNewExtendedElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeExtension.ExtendedT target = null;
+            target = (xbean.scomp.derivation.attributeExtension.ExtendedT)get_store().add_element_user(EXTENDEDELEMENT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * XML Type:  extendedT
+ * Namespace: http://xbean/scomp/derivation/AttributeExtension
+ * Java type: xbean.scomp.derivation.attributeExtension.ExtendedT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeExtension.impl;
+/**
+ * An XML extendedT(@http://xbean/scomp/derivation/AttributeExtension).
+ *
+ * This is a complex type.
+ */
+public class ExtendedTImpl extends xbean.scomp.derivation.attributeExtension.impl.BaseTImpl implements xbean.scomp.derivation.attributeExtension.ExtendedT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTE2$0 = 
+        new javax.xml.namespace.QName("", "testattribute");
+    
+    
+    /**
+     * Gets the "testattribute" attribute
+     */
+    public java.lang.String getTestattribute2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE2$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattribute2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE2$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattribute" attribute
+     */
+    public boolean isSetTestattribute2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTE2$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattribute" attribute
+     */
+    public void setTestattribute2(java.lang.String testattribute2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE2$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTE2$0);
+            }
+            target.setStringValue(testattribute2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattribute" attribute
+     */
+    public void xsetTestattribute2(org.apache.xmlbeans.XmlString testattribute2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE2$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTE2$0);
+            }
+            target.set(testattribute2);
+        }
+    }
+    
+    /**
+     * Unsets the "testattribute" attribute
+     */
+    public void unsetTestattribute2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTE2$0);
+        }
+    }
+}
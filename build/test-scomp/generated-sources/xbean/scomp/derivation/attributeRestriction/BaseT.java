@@ -0,0 +1,336 @@
+/*
+ * XML Type:  baseT
+ * Namespace: http://xbean/scomp/derivation/AttributeRestriction
+ * Java type: xbean.scomp.derivation.attributeRestriction.BaseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeRestriction;
+
+
+/**
+ * An XML baseT(@http://xbean/scomp/derivation/AttributeRestriction).
+ *
+ * This is a complex type.
+ */
+public interface BaseT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BaseT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("baset1b28type");
+    
+    /**
+     * Gets the "a" attribute
+     */
+    java.math.BigInteger getA();
+    
+    /**
+     * Gets (as xml) the "a" attribute
+     */
+    org.apache.xmlbeans.XmlInteger xgetA();
+    
+    /**
+     * True if has "a" attribute
+     */
+    boolean isSetA();
+    
+    /**
+     * Sets the "a" attribute
+     */
+    void setA(java.math.BigInteger a);
+    
+    /**
+     * Sets (as xml) the "a" attribute
+     */
+    void xsetA(org.apache.xmlbeans.XmlInteger a);
+    
+    /**
+     * Unsets the "a" attribute
+     */
+    void unsetA();
+    
+    /**
+     * Gets the "b" attribute
+     */
+    java.lang.String getB();
+    
+    /**
+     * Gets (as xml) the "b" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetB();
+    
+    /**
+     * True if has "b" attribute
+     */
+    boolean isSetB();
+    
+    /**
+     * Sets the "b" attribute
+     */
+    void setB(java.lang.String b);
+    
+    /**
+     * Sets (as xml) the "b" attribute
+     */
+    void xsetB(org.apache.xmlbeans.XmlString b);
+    
+    /**
+     * Unsets the "b" attribute
+     */
+    void unsetB();
+    
+    /**
+     * Gets the "c" attribute
+     */
+    java.lang.String getC();
+    
+    /**
+     * Gets (as xml) the "c" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetC();
+    
+    /**
+     * True if has "c" attribute
+     */
+    boolean isSetC();
+    
+    /**
+     * Sets the "c" attribute
+     */
+    void setC(java.lang.String c);
+    
+    /**
+     * Sets (as xml) the "c" attribute
+     */
+    void xsetC(org.apache.xmlbeans.XmlString c);
+    
+    /**
+     * Unsets the "c" attribute
+     */
+    void unsetC();
+    
+    /**
+     * Gets the "d" attribute
+     */
+    java.lang.String getD();
+    
+    /**
+     * Gets (as xml) the "d" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetD();
+    
+    /**
+     * True if has "d" attribute
+     */
+    boolean isSetD();
+    
+    /**
+     * Sets the "d" attribute
+     */
+    void setD(java.lang.String d);
+    
+    /**
+     * Sets (as xml) the "d" attribute
+     */
+    void xsetD(org.apache.xmlbeans.XmlString d);
+    
+    /**
+     * Unsets the "d" attribute
+     */
+    void unsetD();
+    
+    /**
+     * Gets the "e" attribute
+     */
+    java.lang.String getE();
+    
+    /**
+     * Gets (as xml) the "e" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetE();
+    
+    /**
+     * True if has "e" attribute
+     */
+    boolean isSetE();
+    
+    /**
+     * Sets the "e" attribute
+     */
+    void setE(java.lang.String e);
+    
+    /**
+     * Sets (as xml) the "e" attribute
+     */
+    void xsetE(org.apache.xmlbeans.XmlString e);
+    
+    /**
+     * Unsets the "e" attribute
+     */
+    void unsetE();
+    
+    /**
+     * Gets the "f" attribute
+     */
+    java.lang.String getF();
+    
+    /**
+     * Gets (as xml) the "f" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetF();
+    
+    /**
+     * True if has "f" attribute
+     */
+    boolean isSetF();
+    
+    /**
+     * Sets the "f" attribute
+     */
+    void setF(java.lang.String f);
+    
+    /**
+     * Sets (as xml) the "f" attribute
+     */
+    void xsetF(org.apache.xmlbeans.XmlString f);
+    
+    /**
+     * Unsets the "f" attribute
+     */
+    void unsetF();
+    
+    /**
+     * Gets the "g" attribute
+     */
+    java.lang.String getG();
+    
+    /**
+     * Gets (as xml) the "g" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetG();
+    
+    /**
+     * True if has "g" attribute
+     */
+    boolean isSetG();
+    
+    /**
+     * Sets the "g" attribute
+     */
+    void setG(java.lang.String g);
+    
+    /**
+     * Sets (as xml) the "g" attribute
+     */
+    void xsetG(org.apache.xmlbeans.XmlString g);
+    
+    /**
+     * Unsets the "g" attribute
+     */
+    void unsetG();
+    
+    /**
+     * Gets the "x" attribute
+     */
+    java.lang.String getX();
+    
+    /**
+     * Gets (as xml) the "x" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetX();
+    
+    /**
+     * True if has "x" attribute
+     */
+    boolean isSetX();
+    
+    /**
+     * Sets the "x" attribute
+     */
+    void setX(java.lang.String x);
+    
+    /**
+     * Sets (as xml) the "x" attribute
+     */
+    void xsetX(org.apache.xmlbeans.XmlString x);
+    
+    /**
+     * Unsets the "x" attribute
+     */
+    void unsetX();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.attributeRestriction.BaseT newInstance() {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.attributeRestriction.BaseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.attributeRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
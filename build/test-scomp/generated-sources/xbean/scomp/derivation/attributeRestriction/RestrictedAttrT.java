@@ -0,0 +1,216 @@
+/*
+ * XML Type:  RestrictedAttrT
+ * Namespace: http://xbean/scomp/derivation/AttributeRestriction
+ * Java type: xbean.scomp.derivation.attributeRestriction.RestrictedAttrT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeRestriction;
+
+
+/**
+ * An XML RestrictedAttrT(@http://xbean/scomp/derivation/AttributeRestriction).
+ *
+ * This is a complex type.
+ */
+public interface RestrictedAttrT extends xbean.scomp.derivation.attributeRestriction.BaseT
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RestrictedAttrT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("restrictedattrt0aa3type");
+    
+    /**
+     * Gets the "b" attribute
+     */
+    java.lang.String getB();
+    
+    /**
+     * Gets (as xml) the "b" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetB();
+    
+    /**
+     * True if has "b" attribute
+     */
+    boolean isSetB();
+    
+    /**
+     * Sets the "b" attribute
+     */
+    void setB(java.lang.String b);
+    
+    /**
+     * Sets (as xml) the "b" attribute
+     */
+    void xsetB(org.apache.xmlbeans.XmlString b);
+    
+    /**
+     * Unsets the "b" attribute
+     */
+    void unsetB();
+    
+    /**
+     * Gets the "c" attribute
+     */
+    java.lang.String getC();
+    
+    /**
+     * Gets (as xml) the "c" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetC();
+    
+    /**
+     * True if has "c" attribute
+     */
+    boolean isSetC();
+    
+    /**
+     * Sets the "c" attribute
+     */
+    void setC(java.lang.String c);
+    
+    /**
+     * Sets (as xml) the "c" attribute
+     */
+    void xsetC(org.apache.xmlbeans.XmlString c);
+    
+    /**
+     * Unsets the "c" attribute
+     */
+    void unsetC();
+    
+    /**
+     * Gets the "d" attribute
+     */
+    java.lang.String getD();
+    
+    /**
+     * Gets (as xml) the "d" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetD();
+    
+    /**
+     * True if has "d" attribute
+     */
+    boolean isSetD();
+    
+    /**
+     * Sets the "d" attribute
+     */
+    void setD(java.lang.String d);
+    
+    /**
+     * Sets (as xml) the "d" attribute
+     */
+    void xsetD(org.apache.xmlbeans.XmlString d);
+    
+    /**
+     * Unsets the "d" attribute
+     */
+    void unsetD();
+    
+    /**
+     * Gets the "f" attribute
+     */
+    java.lang.String getF();
+    
+    /**
+     * Gets (as xml) the "f" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetF();
+    
+    /**
+     * True if has "f" attribute
+     */
+    boolean isSetF();
+    
+    /**
+     * Sets the "f" attribute
+     */
+    void setF(java.lang.String f);
+    
+    /**
+     * Sets (as xml) the "f" attribute
+     */
+    void xsetF(org.apache.xmlbeans.XmlString f);
+    
+    /**
+     * Unsets the "f" attribute
+     */
+    void unsetF();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT newInstance() {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.attributeRestriction.RestrictedAttrT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AttrElt
+ * Namespace: http://xbean/scomp/derivation/AttributeRestriction
+ * Java type: xbean.scomp.derivation.attributeRestriction.AttrEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeRestriction.impl;
+/**
+ * A document containing one AttrElt(@http://xbean/scomp/derivation/AttributeRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class AttrEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeRestriction.AttrEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttrEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeRestriction", "AttrElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 989773020:
+                if (name.equals(ATTRELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttrElt" element
+     */
+    public xbean.scomp.derivation.attributeRestriction.RestrictedAttrT getAttrElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeRestriction.RestrictedAttrT target = null;
+            target = (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT)get_store().find_element_user(ATTRELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttrElt" element
+     */
+    public void setAttrElt(xbean.scomp.derivation.attributeRestriction.RestrictedAttrT attrElt)
+    {
+        generatedSetterHelperImpl(attrElt, ATTRELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttrElt" element
+     */
+    public xbean.scomp.derivation.attributeRestriction.RestrictedAttrT addNewAttrElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeRestriction.RestrictedAttrT target = null;
+            target = (xbean.scomp.derivation.attributeRestriction.RestrictedAttrT)get_store().add_element_user(ATTRELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,792 @@
+/*
+ * XML Type:  baseT
+ * Namespace: http://xbean/scomp/derivation/AttributeRestriction
+ * Java type: xbean.scomp.derivation.attributeRestriction.BaseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeRestriction.impl;
+/**
+ * An XML baseT(@http://xbean/scomp/derivation/AttributeRestriction).
+ *
+ * This is a complex type.
+ */
+public class BaseTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeRestriction.BaseT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("", "a");
+    private static final javax.xml.namespace.QName B$2 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName C$4 = 
+        new javax.xml.namespace.QName("", "c");
+    private static final javax.xml.namespace.QName D$6 = 
+        new javax.xml.namespace.QName("", "d");
+    private static final javax.xml.namespace.QName E$8 = 
+        new javax.xml.namespace.QName("", "e");
+    private static final javax.xml.namespace.QName F$10 = 
+        new javax.xml.namespace.QName("", "f");
+    private static final javax.xml.namespace.QName G$12 = 
+        new javax.xml.namespace.QName("", "g");
+    private static final javax.xml.namespace.QName X$14 = 
+        new javax.xml.namespace.QName("", "x");
+    
+    
+    /**
+     * Gets the "a" attribute
+     */
+    public java.math.BigInteger getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(A$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "a" attribute
+     */
+    public boolean isSetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(A$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "a" attribute
+     */
+    public void setA(java.math.BigInteger a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(A$0);
+            }
+            target.setBigIntegerValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a" attribute
+     */
+    public void xsetA(org.apache.xmlbeans.XmlInteger a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(A$0);
+            }
+            target.set(a);
+        }
+    }
+    
+    /**
+     * Unsets the "a" attribute
+     */
+    public void unsetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(A$0);
+        }
+    }
+    
+    /**
+     * Gets the "b" attribute
+     */
+    public java.lang.String getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "b" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(B$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "b" attribute
+     */
+    public boolean isSetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(B$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "b" attribute
+     */
+    public void setB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B$2);
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "b" attribute
+     */
+    public void xsetB(org.apache.xmlbeans.XmlString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(B$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(B$2);
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Unsets the "b" attribute
+     */
+    public void unsetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(B$2);
+        }
+    }
+    
+    /**
+     * Gets the "c" attribute
+     */
+    public java.lang.String getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(C$4);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(C$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(C$4);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "c" attribute
+     */
+    public boolean isSetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(C$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "c" attribute
+     */
+    public void setC(java.lang.String c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(C$4);
+            }
+            target.setStringValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" attribute
+     */
+    public void xsetC(org.apache.xmlbeans.XmlString c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(C$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(C$4);
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Unsets the "c" attribute
+     */
+    public void unsetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(C$4);
+        }
+    }
+    
+    /**
+     * Gets the "d" attribute
+     */
+    public java.lang.String getD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(D$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "d" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(D$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "d" attribute
+     */
+    public boolean isSetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(D$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "d" attribute
+     */
+    public void setD(java.lang.String d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(D$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(D$6);
+            }
+            target.setStringValue(d);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "d" attribute
+     */
+    public void xsetD(org.apache.xmlbeans.XmlString d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(D$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(D$6);
+            }
+            target.set(d);
+        }
+    }
+    
+    /**
+     * Unsets the "d" attribute
+     */
+    public void unsetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(D$6);
+        }
+    }
+    
+    /**
+     * Gets the "e" attribute
+     */
+    public java.lang.String getE()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(E$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(E$8);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "e" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetE()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(E$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(E$8);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "e" attribute
+     */
+    public boolean isSetE()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(E$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "e" attribute
+     */
+    public void setE(java.lang.String e)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(E$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(E$8);
+            }
+            target.setStringValue(e);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "e" attribute
+     */
+    public void xsetE(org.apache.xmlbeans.XmlString e)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(E$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(E$8);
+            }
+            target.set(e);
+        }
+    }
+    
+    /**
+     * Unsets the "e" attribute
+     */
+    public void unsetE()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(E$8);
+        }
+    }
+    
+    /**
+     * Gets the "f" attribute
+     */
+    public java.lang.String getF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(F$10);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "f" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(F$10);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "f" attribute
+     */
+    public boolean isSetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(F$10) != null;
+        }
+    }
+    
+    /**
+     * Sets the "f" attribute
+     */
+    public void setF(java.lang.String f)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(F$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(F$10);
+            }
+            target.setStringValue(f);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "f" attribute
+     */
+    public void xsetF(org.apache.xmlbeans.XmlString f)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(F$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(F$10);
+            }
+            target.set(f);
+        }
+    }
+    
+    /**
+     * Unsets the "f" attribute
+     */
+    public void unsetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(F$10);
+        }
+    }
+    
+    /**
+     * Gets the "g" attribute
+     */
+    public java.lang.String getG()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(G$12);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "g" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetG()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(G$12);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "g" attribute
+     */
+    public boolean isSetG()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(G$12) != null;
+        }
+    }
+    
+    /**
+     * Sets the "g" attribute
+     */
+    public void setG(java.lang.String g)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(G$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(G$12);
+            }
+            target.setStringValue(g);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "g" attribute
+     */
+    public void xsetG(org.apache.xmlbeans.XmlString g)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(G$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(G$12);
+            }
+            target.set(g);
+        }
+    }
+    
+    /**
+     * Unsets the "g" attribute
+     */
+    public void unsetG()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(G$12);
+        }
+    }
+    
+    /**
+     * Gets the "x" attribute
+     */
+    public java.lang.String getX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(X$14);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "x" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(X$14);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "x" attribute
+     */
+    public boolean isSetX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(X$14) != null;
+        }
+    }
+    
+    /**
+     * Sets the "x" attribute
+     */
+    public void setX(java.lang.String x)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(X$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(X$14);
+            }
+            target.setStringValue(x);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "x" attribute
+     */
+    public void xsetX(org.apache.xmlbeans.XmlString x)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(X$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(X$14);
+            }
+            target.set(x);
+        }
+    }
+    
+    /**
+     * Unsets the "x" attribute
+     */
+    public void unsetX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(X$14);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * XML Type:  RestrictedAttrT
+ * Namespace: http://xbean/scomp/derivation/AttributeRestriction
+ * Java type: xbean.scomp.derivation.attributeRestriction.RestrictedAttrT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeRestriction.impl;
+/**
+ * An XML RestrictedAttrT(@http://xbean/scomp/derivation/AttributeRestriction).
+ *
+ * This is a complex type.
+ */
+public class RestrictedAttrTImpl extends xbean.scomp.derivation.attributeRestriction.impl.BaseTImpl implements xbean.scomp.derivation.attributeRestriction.RestrictedAttrT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedAttrTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName B$0 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName C$2 = 
+        new javax.xml.namespace.QName("", "c");
+    private static final javax.xml.namespace.QName D$4 = 
+        new javax.xml.namespace.QName("", "d");
+    private static final javax.xml.namespace.QName F$6 = 
+        new javax.xml.namespace.QName("", "f");
+    
+    
+    /**
+     * Gets the "b" attribute
+     */
+    public java.lang.String getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(B$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "b" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(B$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "b" attribute
+     */
+    public boolean isSetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(B$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "b" attribute
+     */
+    public void setB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B$0);
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "b" attribute
+     */
+    public void xsetB(org.apache.xmlbeans.XmlString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(B$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(B$0);
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Unsets the "b" attribute
+     */
+    public void unsetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(B$0);
+        }
+    }
+    
+    /**
+     * Gets the "c" attribute
+     */
+    public java.lang.String getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(C$2);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(C$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(C$2);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "c" attribute
+     */
+    public boolean isSetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(C$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "c" attribute
+     */
+    public void setC(java.lang.String c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(C$2);
+            }
+            target.setStringValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" attribute
+     */
+    public void xsetC(org.apache.xmlbeans.XmlString c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(C$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(C$2);
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Unsets the "c" attribute
+     */
+    public void unsetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(C$2);
+        }
+    }
+    
+    /**
+     * Gets the "d" attribute
+     */
+    public java.lang.String getD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(D$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(D$4);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "d" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(D$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(D$4);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "d" attribute
+     */
+    public boolean isSetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(D$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "d" attribute
+     */
+    public void setD(java.lang.String d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(D$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(D$4);
+            }
+            target.setStringValue(d);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "d" attribute
+     */
+    public void xsetD(org.apache.xmlbeans.XmlString d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(D$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(D$4);
+            }
+            target.set(d);
+        }
+    }
+    
+    /**
+     * Unsets the "d" attribute
+     */
+    public void unsetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(D$4);
+        }
+    }
+    
+    /**
+     * Gets the "f" attribute
+     */
+    public java.lang.String getF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(F$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "f" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(F$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "f" attribute
+     */
+    public boolean isSetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(F$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "f" attribute
+     */
+    public void setF(java.lang.String f)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(F$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(F$6);
+            }
+            target.setStringValue(f);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "f" attribute
+     */
+    public void xsetF(org.apache.xmlbeans.XmlString f)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(F$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(F$6);
+            }
+            target.set(f);
+        }
+    }
+    
+    /**
+     * Unsets the "f" attribute
+     */
+    public void unsetF()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(F$6);
+        }
+    }
+}
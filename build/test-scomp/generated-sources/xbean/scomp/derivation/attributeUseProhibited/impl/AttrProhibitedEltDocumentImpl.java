@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AttrProhibitedElt
+ * Namespace: http://xbean/scomp/derivation/AttributeUseProhibited
+ * Java type: xbean.scomp.derivation.attributeUseProhibited.AttrProhibitedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeUseProhibited.impl;
+/**
+ * A document containing one AttrProhibitedElt(@http://xbean/scomp/derivation/AttributeUseProhibited) element.
+ *
+ * This is a complex type.
+ */
+public class AttrProhibitedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeUseProhibited.AttrProhibitedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttrProhibitedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRPROHIBITEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeUseProhibited", "AttrProhibitedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -757469570:
+                if (name.equals(ATTRPROHIBITEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttrProhibitedElt" element
+     */
+    public xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited getAttrProhibitedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited target = null;
+            target = (xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited)get_store().find_element_user(ATTRPROHIBITEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttrProhibitedElt" element
+     */
+    public void setAttrProhibitedElt(xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited attrProhibitedElt)
+    {
+        generatedSetterHelperImpl(attrProhibitedElt, ATTRPROHIBITEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttrProhibitedElt" element
+     */
+    public xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited addNewAttrProhibitedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited target = null;
+            target = (xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited)get_store().add_element_user(ATTRPROHIBITEDELT$0);
+            return target;
+        }
+    }
+}
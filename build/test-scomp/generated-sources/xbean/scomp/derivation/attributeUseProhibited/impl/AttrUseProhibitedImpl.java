@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AttrUseProhibited
+ * Namespace: http://xbean/scomp/derivation/AttributeUseProhibited
+ * Java type: xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeUseProhibited.impl;
+/**
+ * An XML AttrUseProhibited(@http://xbean/scomp/derivation/AttributeUseProhibited).
+ *
+ * This is a complex type.
+ */
+public class AttrUseProhibitedImpl extends xbean.scomp.attribute.localAttrUse.impl.LocalAttrUseTImpl implements xbean.scomp.derivation.attributeUseProhibited.AttrUseProhibited
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttrUseProhibitedImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AnyLaxT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.AnyLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML AnyLaxT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class AnyLaxTImpl extends xbean.scomp.namespace.attributeWC.impl.AnyStrictTImpl implements xbean.scomp.derivation.attributeWCExtension.AnyLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
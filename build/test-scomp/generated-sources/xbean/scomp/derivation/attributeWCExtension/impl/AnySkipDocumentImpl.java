@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnySkip
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.AnySkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one AnySkip(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class AnySkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.AnySkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnySkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "AnySkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 821728619:
+                if (name.equals(ANYSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnySkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.AnySkipT getAnySkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.AnySkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.AnySkipT)get_store().find_element_user(ANYSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnySkip" element
+     */
+    public void setAnySkip(xbean.scomp.derivation.attributeWCExtension.AnySkipT anySkip)
+    {
+        generatedSetterHelperImpl(anySkip, ANYSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnySkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.AnySkipT addNewAnySkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.AnySkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.AnySkipT)get_store().add_element_user(ANYSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AnySkipT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.AnySkipT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML AnySkipT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class AnySkipTImpl extends xbean.scomp.namespace.attributeWC.impl.AnyStrictTImpl implements xbean.scomp.derivation.attributeWCExtension.AnySkipT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnySkipTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
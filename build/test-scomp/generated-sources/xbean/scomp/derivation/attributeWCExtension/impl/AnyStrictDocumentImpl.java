@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnyStrict
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.AnyStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one AnyStrict(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class AnyStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.AnyStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "AnyStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -584203339:
+                if (name.equals(ANYSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.AnyStrictT getAnyStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.AnyStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.AnyStrictT)get_store().find_element_user(ANYSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyStrict" element
+     */
+    public void setAnyStrict(xbean.scomp.derivation.attributeWCExtension.AnyStrictT anyStrict)
+    {
+        generatedSetterHelperImpl(anyStrict, ANYSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.AnyStrictT addNewAnyStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.AnyStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.AnyStrictT)get_store().add_element_user(ANYSTRICT$0);
+            return target;
+        }
+    }
+}
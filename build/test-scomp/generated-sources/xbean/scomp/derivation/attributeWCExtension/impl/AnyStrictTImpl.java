@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AnyStrictT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.AnyStrictT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML AnyStrictT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class AnyStrictTImpl extends xbean.scomp.namespace.attributeWC.impl.AnyLaxTImpl implements xbean.scomp.derivation.attributeWCExtension.AnyStrictT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyStrictTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
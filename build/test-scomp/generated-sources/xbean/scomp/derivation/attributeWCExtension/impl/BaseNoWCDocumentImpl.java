@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: BaseNoWC
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.BaseNoWCDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one BaseNoWC(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class BaseNoWCDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.BaseNoWCDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseNoWCDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BASENOWC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "BaseNoWC");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1657029922:
+                if (name.equals(BASENOWC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "BaseNoWC" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.BaseNoWCT getBaseNoWC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.BaseNoWCT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.BaseNoWCT)get_store().find_element_user(BASENOWC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "BaseNoWC" element
+     */
+    public void setBaseNoWC(xbean.scomp.derivation.attributeWCExtension.BaseNoWCT baseNoWC)
+    {
+        generatedSetterHelperImpl(baseNoWC, BASENOWC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "BaseNoWC" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.BaseNoWCT addNewBaseNoWC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.BaseNoWCT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.BaseNoWCT)get_store().add_element_user(BASENOWC$0);
+            return target;
+        }
+    }
+}
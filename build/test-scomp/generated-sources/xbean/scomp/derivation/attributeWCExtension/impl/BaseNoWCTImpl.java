@@ -0,0 +1,24 @@
+/*
+ * XML Type:  BaseNoWCT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.BaseNoWCT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML BaseNoWCT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class BaseNoWCTImpl extends xbean.scomp.attribute.globalAttrDefault.impl.GlobalAttrDefaultTImpl implements xbean.scomp.derivation.attributeWCExtension.BaseNoWCT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseNoWCTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
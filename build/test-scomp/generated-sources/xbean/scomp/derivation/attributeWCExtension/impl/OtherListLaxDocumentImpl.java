@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherListLax
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherListLax(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherListLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERLISTLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherListLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1151313685:
+                if (name.equals(OTHERLISTLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherListLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListLaxT getOtherListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListLaxT)get_store().find_element_user(OTHERLISTLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherListLax" element
+     */
+    public void setOtherListLax(xbean.scomp.derivation.attributeWCExtension.OtherListLaxT otherListLax)
+    {
+        generatedSetterHelperImpl(otherListLax, OTHERLISTLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherListLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListLaxT addNewOtherListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListLaxT)get_store().add_element_user(OTHERLISTLAX$0);
+            return target;
+        }
+    }
+}
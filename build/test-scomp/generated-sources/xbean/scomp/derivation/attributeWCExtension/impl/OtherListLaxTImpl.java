@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherListLaxT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherListLaxT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherListLaxTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherSkipTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherListSkip
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherListSkip(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherListSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERLISTSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherListSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1331203661:
+                if (name.equals(OTHERLISTSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherListSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListSkipT getOtherListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListSkipT)get_store().find_element_user(OTHERLISTSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherListSkip" element
+     */
+    public void setOtherListSkip(xbean.scomp.derivation.attributeWCExtension.OtherListSkipT otherListSkip)
+    {
+        generatedSetterHelperImpl(otherListSkip, OTHERLISTSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherListSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListSkipT addNewOtherListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListSkipT)get_store().add_element_user(OTHERLISTSKIP$0);
+            return target;
+        }
+    }
+}
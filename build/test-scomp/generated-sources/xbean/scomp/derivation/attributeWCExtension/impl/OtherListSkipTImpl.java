@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherListSkipT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListSkipT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherListSkipT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherListSkipTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherLaxTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListSkipT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListSkipTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherListStrict
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherListStrict(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherListStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERLISTSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherListStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -604959721:
+                if (name.equals(OTHERLISTSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherListStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListStrictT getOtherListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListStrictT)get_store().find_element_user(OTHERLISTSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherListStrict" element
+     */
+    public void setOtherListStrict(xbean.scomp.derivation.attributeWCExtension.OtherListStrictT otherListStrict)
+    {
+        generatedSetterHelperImpl(otherListStrict, OTHERLISTSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherListStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherListStrictT addNewOtherListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherListStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherListStrictT)get_store().add_element_user(OTHERLISTSTRICT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherListStrictT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherListStrictT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherListStrictT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherListStrictTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherSkipTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherListStrictT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherListStrictTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
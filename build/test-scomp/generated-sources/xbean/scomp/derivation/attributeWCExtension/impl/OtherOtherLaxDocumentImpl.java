@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherOtherLax
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOtherLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherOtherLax(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherOtherLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOtherLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOtherLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHEROTHERLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherOtherLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1185574013:
+                if (name.equals(OTHEROTHERLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherOtherLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT getOtherOtherLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT)get_store().find_element_user(OTHEROTHERLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherOtherLax" element
+     */
+    public void setOtherOtherLax(xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT otherOtherLax)
+    {
+        generatedSetterHelperImpl(otherOtherLax, OTHEROTHERLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherOtherLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT addNewOtherOtherLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT)get_store().add_element_user(OTHEROTHERLAX$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherOtherSkip
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherOtherSkip(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherOtherSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOtherSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHEROTHERSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherOtherSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1902129055:
+                if (name.equals(OTHEROTHERSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherOtherSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT getOtherOtherSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT)get_store().find_element_user(OTHEROTHERSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherOtherSkip" element
+     */
+    public void setOtherOtherSkip(xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT otherOtherSkip)
+    {
+        generatedSetterHelperImpl(otherOtherSkip, OTHEROTHERSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherOtherSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT addNewOtherOtherSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT)get_store().add_element_user(OTHEROTHERSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherOtherSkipT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherOtherSkipT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherOtherSkipTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherLaxTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOtherSkipT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOtherSkipTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherOtherStrict
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one OtherOtherStrict(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class OtherOtherStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOtherStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHEROTHERSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "OtherOtherStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1701469975:
+                if (name.equals(OTHEROTHERSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherOtherStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT getOtherOtherStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT)get_store().find_element_user(OTHEROTHERSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherOtherStrict" element
+     */
+    public void setOtherOtherStrict(xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT otherOtherStrict)
+    {
+        generatedSetterHelperImpl(otherOtherStrict, OTHEROTHERSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherOtherStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT addNewOtherOtherStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT)get_store().add_element_user(OTHEROTHERSTRICT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherOtherStrictT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherOtherStrictT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherOtherStrictTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherSkipTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOtherStrictT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOtherStrictTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherOthertLaxT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML OtherOthertLaxT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class OtherOthertLaxTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherSkipTImpl implements xbean.scomp.derivation.attributeWCExtension.OtherOthertLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherOthertLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
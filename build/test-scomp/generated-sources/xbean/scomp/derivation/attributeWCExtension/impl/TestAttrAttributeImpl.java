@@ -0,0 +1,101 @@
+/*
+ * An XML attribute type.
+ * Localname: testAttr
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.TestAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one testAttr(@http://xbean/scomp/derivation/AttributeWCExtension) attribute.
+ *
+ * This is a complex type.
+ */
+public class TestAttrAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.TestAttrAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestAttrAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "testAttr");
+    
+    
+    /**
+     * Gets the "testAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getTestAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(TESTATTR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testAttr" attribute
+     */
+    public boolean isSetTestAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testAttr" attribute
+     */
+    public void setTestAttr(org.apache.xmlbeans.XmlAnySimpleType testAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(TESTATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(TESTATTR$0);
+            }
+            target.set(testAttr);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "testAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewTestAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(TESTATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "testAttr" attribute
+     */
+    public void unsetTestAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTR$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: UriListLax
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one UriListLax(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class UriListLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.UriListLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName URILISTLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "UriListLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 742934841:
+                if (name.equals(URILISTLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UriListLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListLaxT getUriListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListLaxT)get_store().find_element_user(URILISTLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UriListLax" element
+     */
+    public void setUriListLax(xbean.scomp.derivation.attributeWCExtension.UriListLaxT uriListLax)
+    {
+        generatedSetterHelperImpl(uriListLax, URILISTLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UriListLax" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListLaxT addNewUriListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListLaxT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListLaxT)get_store().add_element_user(URILISTLAX$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  UriListLaxT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML UriListLaxT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class UriListLaxTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherSkipTImpl implements xbean.scomp.derivation.attributeWCExtension.UriListLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
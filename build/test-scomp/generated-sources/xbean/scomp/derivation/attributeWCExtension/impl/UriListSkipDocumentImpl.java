@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: UriListSkip
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one UriListSkip(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class UriListSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.UriListSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName URILISTSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "UriListSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1556361385:
+                if (name.equals(URILISTSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UriListSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListSkipT getUriListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListSkipT)get_store().find_element_user(URILISTSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UriListSkip" element
+     */
+    public void setUriListSkip(xbean.scomp.derivation.attributeWCExtension.UriListSkipT uriListSkip)
+    {
+        generatedSetterHelperImpl(uriListSkip, URILISTSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UriListSkip" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListSkipT addNewUriListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListSkipT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListSkipT)get_store().add_element_user(URILISTSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  UriListSkipT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListSkipT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML UriListSkipT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class UriListSkipTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherStrictTImpl implements xbean.scomp.derivation.attributeWCExtension.UriListSkipT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListSkipTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
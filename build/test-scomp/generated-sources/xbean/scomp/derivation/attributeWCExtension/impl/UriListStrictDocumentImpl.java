@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: UriListStrict
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * A document containing one UriListStrict(@http://xbean/scomp/derivation/AttributeWCExtension) element.
+ *
+ * This is a complex type.
+ */
+public class UriListStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCExtension.UriListStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName URILISTSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCExtension", "UriListStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1023248243:
+                if (name.equals(URILISTSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UriListStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListStrictT getUriListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListStrictT)get_store().find_element_user(URILISTSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UriListStrict" element
+     */
+    public void setUriListStrict(xbean.scomp.derivation.attributeWCExtension.UriListStrictT uriListStrict)
+    {
+        generatedSetterHelperImpl(uriListStrict, URILISTSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UriListStrict" element
+     */
+    public xbean.scomp.derivation.attributeWCExtension.UriListStrictT addNewUriListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCExtension.UriListStrictT target = null;
+            target = (xbean.scomp.derivation.attributeWCExtension.UriListStrictT)get_store().add_element_user(URILISTSTRICT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  UriListStrictT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCExtension
+ * Java type: xbean.scomp.derivation.attributeWCExtension.UriListStrictT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCExtension.impl;
+/**
+ * An XML UriListStrictT(@http://xbean/scomp/derivation/AttributeWCExtension).
+ *
+ * This is a complex type.
+ */
+public class UriListStrictTImpl extends xbean.scomp.namespace.attributeWC.impl.OtherStrictTImpl implements xbean.scomp.derivation.attributeWCExtension.UriListStrictT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriListStrictTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
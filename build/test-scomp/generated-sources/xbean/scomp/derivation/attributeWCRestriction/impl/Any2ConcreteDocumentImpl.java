@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Any2Concrete
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * A document containing one Any2Concrete(@http://xbean/scomp/derivation/AttributeWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class Any2ConcreteDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Any2ConcreteDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANY2CONCRETE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCRestriction", "Any2Concrete");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 999549067:
+                if (name.equals(ANY2CONCRETE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Any2Concrete" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT getAny2Concrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT)get_store().find_element_user(ANY2CONCRETE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Any2Concrete" element
+     */
+    public void setAny2Concrete(xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT any2Concrete)
+    {
+        generatedSetterHelperImpl(any2Concrete, ANY2CONCRETE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Any2Concrete" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT addNewAny2Concrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT)get_store().add_element_user(ANY2CONCRETE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * XML Type:  Any2ConcreteT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * An XML Any2ConcreteT(@http://xbean/scomp/derivation/AttributeWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class Any2ConcreteTImpl extends xbean.scomp.namespace.attributeWC.impl.AnySkipTImpl implements xbean.scomp.derivation.attributeWCRestriction.Any2ConcreteT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Any2ConcreteTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/attribute/GlobalAttrDefault", "testattribute");
+    
+    
+    /**
+     * Gets the "testattribute" attribute
+     */
+    public java.lang.String getTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TESTATTRIBUTE$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(TESTATTRIBUTE$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattribute" attribute
+     */
+    public boolean isSetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattribute" attribute
+     */
+    public void setTestattribute(java.lang.String testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            }
+            target.setStringValue(testattribute);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "testattribute" attribute
+     */
+    public void xsetTestattribute(org.apache.xmlbeans.XmlString testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            }
+            target.set(testattribute);
+        }
+    }
+    
+    /**
+     * Unsets the "testattribute" attribute
+     */
+    public void unsetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTE$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Any2Local
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.Any2LocalDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * A document containing one Any2Local(@http://xbean/scomp/derivation/AttributeWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class Any2LocalDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCRestriction.Any2LocalDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Any2LocalDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANY2LOCAL$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCRestriction", "Any2Local");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1566001371:
+                if (name.equals(ANY2LOCAL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Any2Local" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Any2LocalT getAny2Local()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Any2LocalT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Any2LocalT)get_store().find_element_user(ANY2LOCAL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Any2Local" element
+     */
+    public void setAny2Local(xbean.scomp.derivation.attributeWCRestriction.Any2LocalT any2Local)
+    {
+        generatedSetterHelperImpl(any2Local, ANY2LOCAL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Any2Local" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Any2LocalT addNewAny2Local()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Any2LocalT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Any2LocalT)get_store().add_element_user(ANY2LOCAL$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  Any2LocalT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.Any2LocalT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * An XML Any2LocalT(@http://xbean/scomp/derivation/AttributeWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class Any2LocalTImpl extends xbean.scomp.namespace.attributeWC.impl.AnySkipTImpl implements xbean.scomp.derivation.attributeWCRestriction.Any2LocalT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Any2LocalTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
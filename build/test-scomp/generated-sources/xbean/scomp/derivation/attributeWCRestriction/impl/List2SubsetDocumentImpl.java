@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: List2Subset
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.List2SubsetDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * A document containing one List2Subset(@http://xbean/scomp/derivation/AttributeWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class List2SubsetDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCRestriction.List2SubsetDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public List2SubsetDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LIST2SUBSET$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCRestriction", "List2Subset");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -66879882:
+                if (name.equals(LIST2SUBSET$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "List2Subset" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.List2SubsetT getList2Subset()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.List2SubsetT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.List2SubsetT)get_store().find_element_user(LIST2SUBSET$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "List2Subset" element
+     */
+    public void setList2Subset(xbean.scomp.derivation.attributeWCRestriction.List2SubsetT list2Subset)
+    {
+        generatedSetterHelperImpl(list2Subset, LIST2SUBSET$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "List2Subset" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.List2SubsetT addNewList2Subset()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.List2SubsetT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.List2SubsetT)get_store().add_element_user(LIST2SUBSET$0);
+            return target;
+        }
+    }
+}
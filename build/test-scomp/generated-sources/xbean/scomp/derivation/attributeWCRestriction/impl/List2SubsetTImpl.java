@@ -0,0 +1,24 @@
+/*
+ * XML Type:  List2SubsetT
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.List2SubsetT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * An XML List2SubsetT(@http://xbean/scomp/derivation/AttributeWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class List2SubsetTImpl extends xbean.scomp.namespace.attributeWC.impl.UriListLaxTImpl implements xbean.scomp.derivation.attributeWCRestriction.List2SubsetT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public List2SubsetTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
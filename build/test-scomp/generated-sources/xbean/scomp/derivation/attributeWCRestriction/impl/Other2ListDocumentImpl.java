@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Other2List
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.Other2ListDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * A document containing one Other2List(@http://xbean/scomp/derivation/AttributeWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class Other2ListDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCRestriction.Other2ListDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Other2ListDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHER2LIST$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCRestriction", "Other2List");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1768489728:
+                if (name.equals(OTHER2LIST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Other2List" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Other2ListT getOther2List()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Other2ListT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Other2ListT)get_store().find_element_user(OTHER2LIST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Other2List" element
+     */
+    public void setOther2List(xbean.scomp.derivation.attributeWCRestriction.Other2ListT other2List)
+    {
+        generatedSetterHelperImpl(other2List, OTHER2LIST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Other2List" element
+     */
+    public xbean.scomp.derivation.attributeWCRestriction.Other2ListT addNewOther2List()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.attributeWCRestriction.Other2ListT target = null;
+            target = (xbean.scomp.derivation.attributeWCRestriction.Other2ListT)get_store().add_element_user(OTHER2LIST$0);
+            return target;
+        }
+    }
+}
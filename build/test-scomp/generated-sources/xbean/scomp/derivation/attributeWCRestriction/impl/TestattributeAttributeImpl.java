@@ -0,0 +1,101 @@
+/*
+ * An XML attribute type.
+ * Localname: testattribute
+ * Namespace: http://xbean/scomp/derivation/AttributeWCRestriction
+ * Java type: xbean.scomp.derivation.attributeWCRestriction.TestattributeAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.attributeWCRestriction.impl;
+/**
+ * A document containing one testattribute(@http://xbean/scomp/derivation/AttributeWCRestriction) attribute.
+ *
+ * This is a complex type.
+ */
+public class TestattributeAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.attributeWCRestriction.TestattributeAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestattributeAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/AttributeWCRestriction", "testattribute");
+    
+    
+    /**
+     * Gets the "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "testattribute" attribute
+     */
+    public boolean isSetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TESTATTRIBUTE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "testattribute" attribute
+     */
+    public void setTestattribute(org.apache.xmlbeans.XmlAnySimpleType testattribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(TESTATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            }
+            target.set(testattribute);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "testattribute" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(TESTATTRIBUTE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "testattribute" attribute
+     */
+    public void unsetTestattribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TESTATTRIBUTE$0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ageT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.AgeT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML ageT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.block.AgeT.
+ */
+public class AgeTImpl extends org.apache.xmlbeans.impl.values.JavaIntegerHolderEx implements xbean.scomp.derivation.block.AgeT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AgeTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected AgeTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  blockRET
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.BlockRET
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML blockRET(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class BlockRETImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.BlockRET
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockRETImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName AGE$2 = 
+        new javax.xml.namespace.QName("", "age");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 96511:
+                if (name.equals(AGE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Gets the "age" element
+     */
+    public java.math.BigInteger getAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AGE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "age" element
+     */
+    public xbean.scomp.derivation.block.AgeT xgetAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.AgeT target = null;
+            target = (xbean.scomp.derivation.block.AgeT)get_store().find_element_user(AGE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "age" element
+     */
+    public void setAge(java.math.BigInteger age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AGE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AGE$2);
+            }
+            target.setBigIntegerValue(age);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "age" element
+     */
+    public void xsetAge(xbean.scomp.derivation.block.AgeT age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.AgeT target = null;
+            target = (xbean.scomp.derivation.block.AgeT)get_store().find_element_user(AGE$2, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.block.AgeT)get_store().add_element_user(AGE$2);
+            }
+            target.set(age);
+        }
+    }
+}
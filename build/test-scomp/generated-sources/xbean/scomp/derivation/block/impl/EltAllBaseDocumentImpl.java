@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltAllBase
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.EltAllBaseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * A document containing one EltAllBase(@http://xbean/scomp/derivation/Block) element.
+ *
+ * This is a complex type.
+ */
+public class EltAllBaseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.EltAllBaseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltAllBaseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTALLBASE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Block", "EltAllBase");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1551598907:
+                if (name.equals(ELTALLBASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltAllBase" element
+     */
+    public xbean.scomp.derivation.block.BlockAllT getEltAllBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockAllT target = null;
+            target = (xbean.scomp.derivation.block.BlockAllT)get_store().find_element_user(ELTALLBASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltAllBase" element
+     */
+    public void setEltAllBase(xbean.scomp.derivation.block.BlockAllT eltAllBase)
+    {
+        generatedSetterHelperImpl(eltAllBase, ELTALLBASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltAllBase" element
+     */
+    public xbean.scomp.derivation.block.BlockAllT addNewEltAllBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockAllT target = null;
+            target = (xbean.scomp.derivation.block.BlockAllT)get_store().add_element_user(ELTALLBASE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltEBase
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.EltEBaseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * A document containing one EltEBase(@http://xbean/scomp/derivation/Block) element.
+ *
+ * This is a complex type.
+ */
+public class EltEBaseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.EltEBaseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltEBaseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTEBASE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Block", "EltEBase");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 447746121:
+                if (name.equals(ELTEBASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltEBase" element
+     */
+    public xbean.scomp.derivation.block.BlockExtT getEltEBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockExtT target = null;
+            target = (xbean.scomp.derivation.block.BlockExtT)get_store().find_element_user(ELTEBASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltEBase" element
+     */
+    public void setEltEBase(xbean.scomp.derivation.block.BlockExtT eltEBase)
+    {
+        generatedSetterHelperImpl(eltEBase, ELTEBASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltEBase" element
+     */
+    public xbean.scomp.derivation.block.BlockExtT addNewEltEBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockExtT target = null;
+            target = (xbean.scomp.derivation.block.BlockExtT)get_store().add_element_user(ELTEBASE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltERBase
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.EltERBaseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * A document containing one EltERBase(@http://xbean/scomp/derivation/Block) element.
+ *
+ * This is a complex type.
+ */
+public class EltERBaseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.EltERBaseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltERBaseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTERBASE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Block", "EltERBase");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1009063915:
+                if (name.equals(ELTERBASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltERBase" element
+     */
+    public xbean.scomp.derivation.block.BlockERT getEltERBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockERT target = null;
+            target = (xbean.scomp.derivation.block.BlockERT)get_store().find_element_user(ELTERBASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltERBase" element
+     */
+    public void setEltERBase(xbean.scomp.derivation.block.BlockERT eltERBase)
+    {
+        generatedSetterHelperImpl(eltERBase, ELTERBASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltERBase" element
+     */
+    public xbean.scomp.derivation.block.BlockERT addNewEltERBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockERT target = null;
+            target = (xbean.scomp.derivation.block.BlockERT)get_store().add_element_user(ELTERBASE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltRBase
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.EltRBaseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * A document containing one EltRBase(@http://xbean/scomp/derivation/Block) element.
+ *
+ * This is a complex type.
+ */
+public class EltRBaseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.EltRBaseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltRBaseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTRBASE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Block", "EltRBase");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 459751894:
+                if (name.equals(ELTRBASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltRBase" element
+     */
+    public xbean.scomp.derivation.block.BlockRestT getEltRBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockRestT target = null;
+            target = (xbean.scomp.derivation.block.BlockRestT)get_store().find_element_user(ELTRBASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltRBase" element
+     */
+    public void setEltRBase(xbean.scomp.derivation.block.BlockRestT eltRBase)
+    {
+        generatedSetterHelperImpl(eltRBase, ELTRBASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltRBase" element
+     */
+    public xbean.scomp.derivation.block.BlockRestT addNewEltRBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockRestT target = null;
+            target = (xbean.scomp.derivation.block.BlockRestT)get_store().add_element_user(ELTRBASE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltREBase
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.EltREBaseDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * A document containing one EltREBase(@http://xbean/scomp/derivation/Block) element.
+ *
+ * This is a complex type.
+ */
+public class EltREBaseDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.block.EltREBaseDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltREBaseDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTREBASE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Block", "EltREBase");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1369237105:
+                if (name.equals(ELTREBASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltREBase" element
+     */
+    public xbean.scomp.derivation.block.BlockRET getEltREBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockRET target = null;
+            target = (xbean.scomp.derivation.block.BlockRET)get_store().find_element_user(ELTREBASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltREBase" element
+     */
+    public void setEltREBase(xbean.scomp.derivation.block.BlockRET eltREBase)
+    {
+        generatedSetterHelperImpl(eltREBase, ELTREBASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltREBase" element
+     */
+    public xbean.scomp.derivation.block.BlockRET addNewEltREBase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.BlockRET target = null;
+            target = (xbean.scomp.derivation.block.BlockRET)get_store().add_element_user(ELTREBASE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  extRT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.ExtRT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML extRT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class ExtRTImpl extends xbean.scomp.derivation.block.impl.BlockRestTImpl implements xbean.scomp.derivation.block.ExtRT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtRTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GENDER$0 = 
+        new javax.xml.namespace.QName("", "gender");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1249512767:
+                if (name.equals(GENDER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "gender" element
+     */
+    public java.lang.String getGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GENDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gender" element
+     */
+    public xbean.scomp.derivation.block.GenderT xgetGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.GenderT target = null;
+            target = (xbean.scomp.derivation.block.GenderT)get_store().find_element_user(GENDER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "gender" element
+     */
+    public void setGender(java.lang.String gender)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GENDER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GENDER$0);
+            }
+            target.setStringValue(gender);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gender" element
+     */
+    public void xsetGender(xbean.scomp.derivation.block.GenderT gender)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.block.GenderT target = null;
+            target = (xbean.scomp.derivation.block.GenderT)get_store().find_element_user(GENDER$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.block.GenderT)get_store().add_element_user(GENDER$0);
+            }
+            target.set(gender);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  genderT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.GenderT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML genderT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.block.GenderT.
+ */
+public class GenderTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.block.GenderT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GenderTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected GenderTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
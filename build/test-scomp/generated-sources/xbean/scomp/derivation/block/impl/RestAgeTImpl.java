@@ -0,0 +1,27 @@
+/*
+ * XML Type:  restAgeT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestAgeT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restAgeT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.block.RestAgeT.
+ */
+public class RestAgeTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.block.RestAgeT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestAgeTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected RestAgeTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restAllT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestAllT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restAllT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class RestAllTImpl extends xbean.scomp.derivation.block.impl.BlockAllTImpl implements xbean.scomp.derivation.block.RestAllT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestAllTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
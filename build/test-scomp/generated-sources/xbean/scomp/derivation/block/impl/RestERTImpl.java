@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restERT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestERT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restERT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class RestERTImpl extends xbean.scomp.derivation.block.impl.BlockERTImpl implements xbean.scomp.derivation.block.RestERT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestERTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
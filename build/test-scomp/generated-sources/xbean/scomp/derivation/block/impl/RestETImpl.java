@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restET
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestET
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restET(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class RestETImpl extends xbean.scomp.derivation.block.impl.BlockExtTImpl implements xbean.scomp.derivation.block.RestET
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestETImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restRET
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestRET
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restRET(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class RestRETImpl extends xbean.scomp.derivation.block.impl.BlockRETImpl implements xbean.scomp.derivation.block.RestRET
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestRETImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restRT
+ * Namespace: http://xbean/scomp/derivation/Block
+ * Java type: xbean.scomp.derivation.block.RestRT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.block.impl;
+/**
+ * An XML restRT(@http://xbean/scomp/derivation/Block).
+ *
+ * This is a complex type.
+ */
+public class RestRTImpl extends xbean.scomp.derivation.block.impl.BlockRestTImpl implements xbean.scomp.derivation.block.RestRT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestRTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,236 @@
+/*
+ * XML Type:  ChoiceExtensionT
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.ChoiceExtensionT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension;
+
+
+/**
+ * An XML ChoiceExtensionT(@http://xbean/scomp/derivation/ComplexExtension).
+ *
+ * This is a complex type.
+ */
+public interface ChoiceExtensionT extends xbean.scomp.contentType.modelGroup.ChoiceT
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ChoiceExtensionT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("choiceextensiont0842type");
+    
+    /**
+     * Gets array of all "extraEltStr" elements
+     */
+    java.lang.String[] getExtraEltStrArray();
+    
+    /**
+     * Gets ith "extraEltStr" element
+     */
+    java.lang.String getExtraEltStrArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "extraEltStr" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetExtraEltStrArray();
+    
+    /**
+     * Gets (as xml) ith "extraEltStr" element
+     */
+    org.apache.xmlbeans.XmlString xgetExtraEltStrArray(int i);
+    
+    /**
+     * Returns number of "extraEltStr" element
+     */
+    int sizeOfExtraEltStrArray();
+    
+    /**
+     * Sets array of all "extraEltStr" element
+     */
+    void setExtraEltStrArray(java.lang.String[] extraEltStrArray);
+    
+    /**
+     * Sets ith "extraEltStr" element
+     */
+    void setExtraEltStrArray(int i, java.lang.String extraEltStr);
+    
+    /**
+     * Sets (as xml) array of all "extraEltStr" element
+     */
+    void xsetExtraEltStrArray(org.apache.xmlbeans.XmlString[] extraEltStrArray);
+    
+    /**
+     * Sets (as xml) ith "extraEltStr" element
+     */
+    void xsetExtraEltStrArray(int i, org.apache.xmlbeans.XmlString extraEltStr);
+    
+    /**
+     * Inserts the value as the ith "extraEltStr" element
+     */
+    void insertExtraEltStr(int i, java.lang.String extraEltStr);
+    
+    /**
+     * Appends the value as the last "extraEltStr" element
+     */
+    void addExtraEltStr(java.lang.String extraEltStr);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "extraEltStr" element
+     */
+    org.apache.xmlbeans.XmlString insertNewExtraEltStr(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "extraEltStr" element
+     */
+    org.apache.xmlbeans.XmlString addNewExtraEltStr();
+    
+    /**
+     * Removes the ith "extraEltStr" element
+     */
+    void removeExtraEltStr(int i);
+    
+    /**
+     * Gets array of all "extraEltInt" elements
+     */
+    int[] getExtraEltIntArray();
+    
+    /**
+     * Gets ith "extraEltInt" element
+     */
+    int getExtraEltIntArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "extraEltInt" elements
+     */
+    org.apache.xmlbeans.XmlInt[] xgetExtraEltIntArray();
+    
+    /**
+     * Gets (as xml) ith "extraEltInt" element
+     */
+    org.apache.xmlbeans.XmlInt xgetExtraEltIntArray(int i);
+    
+    /**
+     * Returns number of "extraEltInt" element
+     */
+    int sizeOfExtraEltIntArray();
+    
+    /**
+     * Sets array of all "extraEltInt" element
+     */
+    void setExtraEltIntArray(int[] extraEltIntArray);
+    
+    /**
+     * Sets ith "extraEltInt" element
+     */
+    void setExtraEltIntArray(int i, int extraEltInt);
+    
+    /**
+     * Sets (as xml) array of all "extraEltInt" element
+     */
+    void xsetExtraEltIntArray(org.apache.xmlbeans.XmlInt[] extraEltIntArray);
+    
+    /**
+     * Sets (as xml) ith "extraEltInt" element
+     */
+    void xsetExtraEltIntArray(int i, org.apache.xmlbeans.XmlInt extraEltInt);
+    
+    /**
+     * Inserts the value as the ith "extraEltInt" element
+     */
+    void insertExtraEltInt(int i, int extraEltInt);
+    
+    /**
+     * Appends the value as the last "extraEltInt" element
+     */
+    void addExtraEltInt(int extraEltInt);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "extraEltInt" element
+     */
+    org.apache.xmlbeans.XmlInt insertNewExtraEltInt(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "extraEltInt" element
+     */
+    org.apache.xmlbeans.XmlInt addNewExtraEltInt();
+    
+    /**
+     * Removes the ith "extraEltInt" element
+     */
+    void removeExtraEltInt(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT newInstance() {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.complexExtension.ChoiceExtensionT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.complexExtension.ChoiceExtensionT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ChoiceExtensionElt
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.ChoiceExtensionEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension.impl;
+/**
+ * A document containing one ChoiceExtensionElt(@http://xbean/scomp/derivation/ComplexExtension) element.
+ *
+ * This is a complex type.
+ */
+public class ChoiceExtensionEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.complexExtension.ChoiceExtensionEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ChoiceExtensionEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHOICEEXTENSIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ComplexExtension", "ChoiceExtensionElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2132075441:
+                if (name.equals(CHOICEEXTENSIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ChoiceExtensionElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.ChoiceExtensionT getChoiceExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.ChoiceExtensionT target = null;
+            target = (xbean.scomp.derivation.complexExtension.ChoiceExtensionT)get_store().find_element_user(CHOICEEXTENSIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ChoiceExtensionElt" element
+     */
+    public void setChoiceExtensionElt(xbean.scomp.derivation.complexExtension.ChoiceExtensionT choiceExtensionElt)
+    {
+        generatedSetterHelperImpl(choiceExtensionElt, CHOICEEXTENSIONELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ChoiceExtensionElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.ChoiceExtensionT addNewChoiceExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.ChoiceExtensionT target = null;
+            target = (xbean.scomp.derivation.complexExtension.ChoiceExtensionT)get_store().add_element_user(CHOICEEXTENSIONELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ExtendedMixedElt
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.ExtendedMixedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension.impl;
+/**
+ * A document containing one ExtendedMixedElt(@http://xbean/scomp/derivation/ComplexExtension) element.
+ *
+ * This is a complex type.
+ */
+public class ExtendedMixedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.complexExtension.ExtendedMixedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedMixedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDMIXEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ComplexExtension", "ExtendedMixedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -462976213:
+                if (name.equals(EXTENDEDMIXEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ExtendedMixedElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.ExtendedMixedT getExtendedMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.ExtendedMixedT target = null;
+            target = (xbean.scomp.derivation.complexExtension.ExtendedMixedT)get_store().find_element_user(EXTENDEDMIXEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ExtendedMixedElt" element
+     */
+    public void setExtendedMixedElt(xbean.scomp.derivation.complexExtension.ExtendedMixedT extendedMixedElt)
+    {
+        generatedSetterHelperImpl(extendedMixedElt, EXTENDEDMIXEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ExtendedMixedElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.ExtendedMixedT addNewExtendedMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.ExtendedMixedT target = null;
+            target = (xbean.scomp.derivation.complexExtension.ExtendedMixedT)get_store().add_element_user(EXTENDEDMIXEDELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * XML Type:  ExtendedMixedT
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.ExtendedMixedT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension.impl;
+/**
+ * An XML ExtendedMixedT(@http://xbean/scomp/derivation/ComplexExtension).
+ *
+ * This is a complex type.
+ */
+public class ExtendedMixedTImpl extends xbean.scomp.contentType.complexTypeTest.impl.MixedTImpl implements xbean.scomp.derivation.complexExtension.ExtendedMixedT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedMixedTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDATTR$0 = 
+        new javax.xml.namespace.QName("", "extendedAttr");
+    
+    
+    /**
+     * Gets the "extendedAttr" attribute
+     */
+    public java.lang.String getExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXTENDEDATTR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXTENDEDATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "extendedAttr" attribute
+     */
+    public boolean isSetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(EXTENDEDATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "extendedAttr" attribute
+     */
+    public void setExtendedAttr(java.lang.String extendedAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXTENDEDATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EXTENDEDATTR$0);
+            }
+            target.setStringValue(extendedAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedAttr" attribute
+     */
+    public void xsetExtendedAttr(org.apache.xmlbeans.XmlString extendedAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXTENDEDATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EXTENDEDATTR$0);
+            }
+            target.set(extendedAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "extendedAttr" attribute
+     */
+    public void unsetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(EXTENDEDATTR$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SequenceExtensionElt
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.SequenceExtensionEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension.impl;
+/**
+ * A document containing one SequenceExtensionElt(@http://xbean/scomp/derivation/ComplexExtension) element.
+ *
+ * This is a complex type.
+ */
+public class SequenceExtensionEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.complexExtension.SequenceExtensionEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SequenceExtensionEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SEQUENCEEXTENSIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ComplexExtension", "SequenceExtensionElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 453607023:
+                if (name.equals(SEQUENCEEXTENSIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SequenceExtensionElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.SequenceExtensionT getSequenceExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.SequenceExtensionT target = null;
+            target = (xbean.scomp.derivation.complexExtension.SequenceExtensionT)get_store().find_element_user(SEQUENCEEXTENSIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SequenceExtensionElt" element
+     */
+    public void setSequenceExtensionElt(xbean.scomp.derivation.complexExtension.SequenceExtensionT sequenceExtensionElt)
+    {
+        generatedSetterHelperImpl(sequenceExtensionElt, SEQUENCEEXTENSIONELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SequenceExtensionElt" element
+     */
+    public xbean.scomp.derivation.complexExtension.SequenceExtensionT addNewSequenceExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.complexExtension.SequenceExtensionT target = null;
+            target = (xbean.scomp.derivation.complexExtension.SequenceExtensionT)get_store().add_element_user(SEQUENCEEXTENSIONELT$0);
+            return target;
+        }
+    }
+}
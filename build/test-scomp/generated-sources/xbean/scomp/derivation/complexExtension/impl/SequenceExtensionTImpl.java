@@ -0,0 +1,476 @@
+/*
+ * XML Type:  SequenceExtensionT
+ * Namespace: http://xbean/scomp/derivation/ComplexExtension
+ * Java type: xbean.scomp.derivation.complexExtension.SequenceExtensionT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.complexExtension.impl;
+/**
+ * An XML SequenceExtensionT(@http://xbean/scomp/derivation/ComplexExtension).
+ *
+ * This is a complex type.
+ */
+public class SequenceExtensionTImpl extends xbean.scomp.contentType.modelGroup.impl.SequenceTImpl implements xbean.scomp.derivation.complexExtension.SequenceExtensionT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SequenceExtensionTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTRAELTSTR$0 = 
+        new javax.xml.namespace.QName("", "extraEltStr");
+    private static final javax.xml.namespace.QName EXTRAELTINT$2 = 
+        new javax.xml.namespace.QName("", "extraEltInt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 957509682:
+                if (name.equals(EXTRAELTINT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 957519476:
+                if (name.equals(EXTRAELTSTR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "extraEltStr" elements
+     */
+    public java.lang.String[] getExtraEltStrArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EXTRAELTSTR$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "extraEltStr" element
+     */
+    public java.lang.String getExtraEltStrArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTRAELTSTR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "extraEltStr" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetExtraEltStrArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EXTRAELTSTR$0, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "extraEltStr" element
+     */
+    public org.apache.xmlbeans.XmlString xgetExtraEltStrArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EXTRAELTSTR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "extraEltStr" element
+     */
+    public int sizeOfExtraEltStrArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXTRAELTSTR$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "extraEltStr" element
+     */
+    public void setExtraEltStrArray(java.lang.String[] extraEltStrArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(extraEltStrArray, EXTRAELTSTR$0);
+        }
+    }
+    
+    /**
+     * Sets ith "extraEltStr" element
+     */
+    public void setExtraEltStrArray(int i, java.lang.String extraEltStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTRAELTSTR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(extraEltStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "extraEltStr" element
+     */
+    public void xsetExtraEltStrArray(org.apache.xmlbeans.XmlString[]extraEltStrArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(extraEltStrArray, EXTRAELTSTR$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "extraEltStr" element
+     */
+    public void xsetExtraEltStrArray(int i, org.apache.xmlbeans.XmlString extraEltStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EXTRAELTSTR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(extraEltStr);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "extraEltStr" element
+     */
+    public void insertExtraEltStr(int i, java.lang.String extraEltStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(EXTRAELTSTR$0, i);
+            target.setStringValue(extraEltStr);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "extraEltStr" element
+     */
+    public void addExtraEltStr(java.lang.String extraEltStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTRAELTSTR$0);
+            target.setStringValue(extraEltStr);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "extraEltStr" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewExtraEltStr(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(EXTRAELTSTR$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "extraEltStr" element
+     */
+    public org.apache.xmlbeans.XmlString addNewExtraEltStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EXTRAELTSTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "extraEltStr" element
+     */
+    public void removeExtraEltStr(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXTRAELTSTR$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "extraEltInt" elements
+     */
+    public int[] getExtraEltIntArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EXTRAELTINT$2, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "extraEltInt" element
+     */
+    public int getExtraEltIntArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(EXTRAELTINT$2, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTRAELTINT$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "extraEltInt" elements
+     */
+    public org.apache.xmlbeans.XmlInt[] xgetExtraEltIntArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EXTRAELTINT$2, targetList);
+            org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "extraEltInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetExtraEltIntArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(EXTRAELTINT$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "extraEltInt" element
+     */
+    public int sizeOfExtraEltIntArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXTRAELTINT$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "extraEltInt" element
+     */
+    public void setExtraEltIntArray(int[] extraEltIntArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(extraEltIntArray, EXTRAELTINT$2);
+        }
+    }
+    
+    /**
+     * Sets ith "extraEltInt" element
+     */
+    public void setExtraEltIntArray(int i, int extraEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTRAELTINT$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(extraEltInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "extraEltInt" element
+     */
+    public void xsetExtraEltIntArray(org.apache.xmlbeans.XmlInt[]extraEltIntArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(extraEltIntArray, EXTRAELTINT$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "extraEltInt" element
+     */
+    public void xsetExtraEltIntArray(int i, org.apache.xmlbeans.XmlInt extraEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(EXTRAELTINT$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(extraEltInt);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "extraEltInt" element
+     */
+    public void insertExtraEltInt(int i, int extraEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(EXTRAELTINT$2, i);
+            target.setIntValue(extraEltInt);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "extraEltInt" element
+     */
+    public void addExtraEltInt(int extraEltInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTRAELTINT$2);
+            target.setIntValue(extraEltInt);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "extraEltInt" element
+     */
+    public org.apache.xmlbeans.XmlInt insertNewExtraEltInt(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(EXTRAELTINT$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "extraEltInt" element
+     */
+    public org.apache.xmlbeans.XmlInt addNewExtraEltInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(EXTRAELTINT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "extraEltInt" element
+     */
+    public void removeExtraEltInt(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXTRAELTINT$2, i);
+        }
+    }
+}
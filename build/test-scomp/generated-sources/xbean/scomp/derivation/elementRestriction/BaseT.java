@@ -0,0 +1,191 @@
+/*
+ * XML Type:  baseT
+ * Namespace: http://xbean/scomp/derivation/ElementRestriction
+ * Java type: xbean.scomp.derivation.elementRestriction.BaseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementRestriction;
+
+
+/**
+ * An XML baseT(@http://xbean/scomp/derivation/ElementRestriction).
+ *
+ * This is a complex type.
+ */
+public interface BaseT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BaseT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("baset30c8type");
+    
+    /**
+     * Gets array of all "a" elements
+     */
+    org.apache.xmlbeans.XmlObject[] getAArray();
+    
+    /**
+     * Gets ith "a" element
+     */
+    org.apache.xmlbeans.XmlObject getAArray(int i);
+    
+    /**
+     * Returns number of "a" element
+     */
+    int sizeOfAArray();
+    
+    /**
+     * Sets array of all "a" element
+     */
+    void setAArray(org.apache.xmlbeans.XmlObject[] aArray);
+    
+    /**
+     * Sets ith "a" element
+     */
+    void setAArray(int i, org.apache.xmlbeans.XmlObject a);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a" element
+     */
+    org.apache.xmlbeans.XmlObject insertNewA(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a" element
+     */
+    org.apache.xmlbeans.XmlObject addNewA();
+    
+    /**
+     * Removes the ith "a" element
+     */
+    void removeA(int i);
+    
+    /**
+     * Gets the "b" element
+     */
+    org.apache.xmlbeans.XmlObject getB();
+    
+    /**
+     * Sets the "b" element
+     */
+    void setB(org.apache.xmlbeans.XmlObject b);
+    
+    /**
+     * Appends and returns a new empty "b" element
+     */
+    org.apache.xmlbeans.XmlObject addNewB();
+    
+    /**
+     * Gets the "c" element
+     */
+    java.lang.String getC();
+    
+    /**
+     * Gets (as xml) the "c" element
+     */
+    org.apache.xmlbeans.XmlString xgetC();
+    
+    /**
+     * Sets the "c" element
+     */
+    void setC(java.lang.String c);
+    
+    /**
+     * Sets (as xml) the "c" element
+     */
+    void xsetC(org.apache.xmlbeans.XmlString c);
+    
+    /**
+     * Gets the "d" element
+     */
+    java.lang.Object getD();
+    
+    /**
+     * Gets (as xml) the "d" element
+     */
+    xbean.scomp.derivation.elementRestriction.Uniontype xgetD();
+    
+    /**
+     * Sets the "d" element
+     */
+    void setD(java.lang.Object d);
+    
+    /**
+     * Sets (as xml) the "d" element
+     */
+    void xsetD(xbean.scomp.derivation.elementRestriction.Uniontype d);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.elementRestriction.BaseT newInstance() {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.elementRestriction.BaseT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.elementRestriction.BaseT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
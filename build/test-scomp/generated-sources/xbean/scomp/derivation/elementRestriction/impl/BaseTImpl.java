@@ -0,0 +1,337 @@
+/*
+ * XML Type:  baseT
+ * Namespace: http://xbean/scomp/derivation/ElementRestriction
+ * Java type: xbean.scomp.derivation.elementRestriction.BaseT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementRestriction.impl;
+/**
+ * An XML baseT(@http://xbean/scomp/derivation/ElementRestriction).
+ *
+ * This is a complex type.
+ */
+public class BaseTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementRestriction.BaseT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("", "a");
+    private static final javax.xml.namespace.QName B$2 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName C$4 = 
+        new javax.xml.namespace.QName("", "c");
+    private static final javax.xml.namespace.QName D$6 = 
+        new javax.xml.namespace.QName("", "d");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 98:
+                if (name.equals(B$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 99:
+                if (name.equals(C$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 100:
+                if (name.equals(D$6))
+                    return ORDINAL$BASE + 3;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "a" elements
+     */
+    public org.apache.xmlbeans.XmlObject[] getAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(A$0, targetList);
+            org.apache.xmlbeans.XmlObject[] result = new org.apache.xmlbeans.XmlObject[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "a" element
+     */
+    public org.apache.xmlbeans.XmlObject getAArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "a" element
+     */
+    public int sizeOfAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(A$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "a" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setAArray(org.apache.xmlbeans.XmlObject[] aArray)
+    {
+        check_orphaned();
+        arraySetterHelper(aArray, A$0);
+    }
+    
+    /**
+     * Sets ith "a" element
+     */
+    public void setAArray(int i, org.apache.xmlbeans.XmlObject a)
+    {
+        generatedSetterHelperImpl(a, A$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a" element
+     */
+    public org.apache.xmlbeans.XmlObject insertNewA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().insert_element_user(A$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(A$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "a" element
+     */
+    public void removeA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(A$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "b" element
+     */
+    public org.apache.xmlbeans.XmlObject getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "b" element
+     */
+    public void setB(org.apache.xmlbeans.XmlObject b)
+    {
+        generatedSetterHelperImpl(b, B$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "b" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(B$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "c" element
+     */
+    public java.lang.String getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" element
+     */
+    public org.apache.xmlbeans.XmlString xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(C$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "c" element
+     */
+    public void setC(java.lang.String c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(C$4);
+            }
+            target.setStringValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" element
+     */
+    public void xsetC(org.apache.xmlbeans.XmlString c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(C$4);
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Gets the "d" element
+     */
+    public java.lang.Object getD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(D$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getObjectValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "d" element
+     */
+    public xbean.scomp.derivation.elementRestriction.Uniontype xgetD()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementRestriction.Uniontype target = null;
+            target = (xbean.scomp.derivation.elementRestriction.Uniontype)get_store().find_element_user(D$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "d" element
+     */
+    public void setD(java.lang.Object d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(D$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(D$6);
+            }
+            target.setObjectValue(d);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "d" element
+     */
+    public void xsetD(xbean.scomp.derivation.elementRestriction.Uniontype d)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementRestriction.Uniontype target = null;
+            target = (xbean.scomp.derivation.elementRestriction.Uniontype)get_store().find_element_user(D$6, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.elementRestriction.Uniontype)get_store().add_element_user(D$6);
+            }
+            target.set(d);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Element
+ * Namespace: http://xbean/scomp/derivation/ElementRestriction
+ * Java type: xbean.scomp.derivation.elementRestriction.ElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementRestriction.impl;
+/**
+ * A document containing one Element(@http://xbean/scomp/derivation/ElementRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class ElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementRestriction.ElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ElementRestriction", "Element");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1816284:
+                if (name.equals(ELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Element" element
+     */
+    public xbean.scomp.derivation.elementRestriction.RestrictedEltT getElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementRestriction.RestrictedEltT target = null;
+            target = (xbean.scomp.derivation.elementRestriction.RestrictedEltT)get_store().find_element_user(ELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Element" element
+     */
+    public void setElement(xbean.scomp.derivation.elementRestriction.RestrictedEltT element)
+    {
+        generatedSetterHelperImpl(element, ELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Element" element
+     */
+    public xbean.scomp.derivation.elementRestriction.RestrictedEltT addNewElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementRestriction.RestrictedEltT target = null;
+            target = (xbean.scomp.derivation.elementRestriction.RestrictedEltT)get_store().add_element_user(ELEMENT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  RestrictedEltT
+ * Namespace: http://xbean/scomp/derivation/ElementRestriction
+ * Java type: xbean.scomp.derivation.elementRestriction.RestrictedEltT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementRestriction.impl;
+/**
+ * An XML RestrictedEltT(@http://xbean/scomp/derivation/ElementRestriction).
+ *
+ * This is a complex type.
+ */
+public class RestrictedEltTImpl extends xbean.scomp.derivation.elementRestriction.impl.BaseTImpl implements xbean.scomp.derivation.elementRestriction.RestrictedEltT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedEltTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("", "a");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "a" elements
+     */
+    public org.apache.xmlbeans.XmlObject[] getAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(A$0, targetList);
+            org.apache.xmlbeans.XmlObject[] result = new org.apache.xmlbeans.XmlObject[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "a" element
+     */
+    public org.apache.xmlbeans.XmlObject getAArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "a" element
+     */
+    public int sizeOfAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(A$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "a" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setAArray(org.apache.xmlbeans.XmlObject[] aArray)
+    {
+        check_orphaned();
+        arraySetterHelper(aArray, A$0);
+    }
+    
+    /**
+     * Sets ith "a" element
+     */
+    public void setAArray(int i, org.apache.xmlbeans.XmlObject a)
+    {
+        generatedSetterHelperImpl(a, A$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a" element
+     */
+    public org.apache.xmlbeans.XmlObject insertNewA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().insert_element_user(A$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(A$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "a" element
+     */
+    public void removeA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(A$0, i);
+        }
+    }
+}
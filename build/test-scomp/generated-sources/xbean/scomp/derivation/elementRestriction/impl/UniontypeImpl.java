@@ -0,0 +1,31 @@
+/*
+ * XML Type:  uniontype
+ * Namespace: http://xbean/scomp/derivation/ElementRestriction
+ * Java type: xbean.scomp.derivation.elementRestriction.Uniontype
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementRestriction.impl;
+/**
+ * An XML uniontype(@http://xbean/scomp/derivation/ElementRestriction).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     org.apache.xmlbeans.XmlInteger
+ *     org.apache.xmlbeans.XmlDecimal
+ *     org.apache.xmlbeans.XmlString
+ *     org.apache.xmlbeans.XmlDouble
+ */
+public class UniontypeImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.derivation.elementRestriction.Uniontype, org.apache.xmlbeans.XmlInteger, org.apache.xmlbeans.XmlDecimal, org.apache.xmlbeans.XmlString, org.apache.xmlbeans.XmlDouble
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UniontypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected UniontypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ConcreteElt
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.ConcreteEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * A document containing one ConcreteElt(@http://xbean/scomp/derivation/ElementWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class ConcreteEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementWCRestriction.ConcreteEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConcreteEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONCRETEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ElementWCRestriction", "ConcreteElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 111172552:
+                if (name.equals(CONCRETEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ConcreteElt" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.ConcreteT getConcreteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.ConcreteT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.ConcreteT)get_store().find_element_user(CONCRETEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ConcreteElt" element
+     */
+    public void setConcreteElt(xbean.scomp.derivation.elementWCRestriction.ConcreteT concreteElt)
+    {
+        generatedSetterHelperImpl(concreteElt, CONCRETEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ConcreteElt" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.ConcreteT addNewConcreteElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.ConcreteT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.ConcreteT)get_store().add_element_user(CONCRETEELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * XML Type:  ConcreteT
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.ConcreteT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * An XML ConcreteT(@http://xbean/scomp/derivation/ElementWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class ConcreteTImpl extends xbean.scomp.namespace.elementWC.impl.AnyLaxTImpl implements xbean.scomp.derivation.elementWCRestriction.ConcreteT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConcreteTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONCRETECHILD$0 = 
+        new javax.xml.namespace.QName("", "concreteChild");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1338294889:
+                if (name.equals(CONCRETECHILD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "concreteChild" element
+     */
+    public org.apache.xmlbeans.XmlObject getConcreteChild()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(CONCRETECHILD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "concreteChild" element
+     */
+    public void setConcreteChild(org.apache.xmlbeans.XmlObject concreteChild)
+    {
+        generatedSetterHelperImpl(concreteChild, CONCRETECHILD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "concreteChild" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewConcreteChild()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(CONCRETECHILD$0);
+            return target;
+        }
+    }
+}
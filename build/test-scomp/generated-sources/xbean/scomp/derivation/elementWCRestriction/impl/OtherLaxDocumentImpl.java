@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherLax
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.OtherLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * A document containing one OtherLax(@http://xbean/scomp/derivation/ElementWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class OtherLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementWCRestriction.OtherLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ElementWCRestriction", "OtherLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1106512749:
+                if (name.equals(OTHERLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherLax" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.OtherLaxT getOtherLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.OtherLaxT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.OtherLaxT)get_store().find_element_user(OTHERLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherLax" element
+     */
+    public void setOtherLax(xbean.scomp.derivation.elementWCRestriction.OtherLaxT otherLax)
+    {
+        generatedSetterHelperImpl(otherLax, OTHERLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherLax" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.OtherLaxT addNewOtherLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.OtherLaxT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.OtherLaxT)get_store().add_element_user(OTHERLAX$0);
+            return target;
+        }
+    }
+}
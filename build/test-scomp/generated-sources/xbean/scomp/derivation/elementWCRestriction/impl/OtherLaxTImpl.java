@@ -0,0 +1,24 @@
+/*
+ * XML Type:  OtherLaxT
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.OtherLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * An XML OtherLaxT(@http://xbean/scomp/derivation/ElementWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class OtherLaxTImpl extends xbean.scomp.namespace.elementWC.impl.AnyLaxTImpl implements xbean.scomp.derivation.elementWCRestriction.OtherLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: testElt
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.TestEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * A document containing one testElt(@http://xbean/scomp/derivation/ElementWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class TestEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementWCRestriction.TestEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ElementWCRestriction", "testElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1422480709:
+                if (name.equals(TESTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "testElt" element
+     */
+    public org.apache.xmlbeans.XmlObject getTestElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(TESTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "testElt" element
+     */
+    public void setTestElt(org.apache.xmlbeans.XmlObject testElt)
+    {
+        generatedSetterHelperImpl(testElt, TESTELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "testElt" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewTestElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(TESTELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: UriSkip
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.UriSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * A document containing one UriSkip(@http://xbean/scomp/derivation/ElementWCRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class UriSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.elementWCRestriction.UriSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName URISKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/ElementWCRestriction", "UriSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1491673323:
+                if (name.equals(URISKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UriSkip" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.UriSkipT getUriSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.UriSkipT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.UriSkipT)get_store().find_element_user(URISKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UriSkip" element
+     */
+    public void setUriSkip(xbean.scomp.derivation.elementWCRestriction.UriSkipT uriSkip)
+    {
+        generatedSetterHelperImpl(uriSkip, URISKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UriSkip" element
+     */
+    public xbean.scomp.derivation.elementWCRestriction.UriSkipT addNewUriSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.elementWCRestriction.UriSkipT target = null;
+            target = (xbean.scomp.derivation.elementWCRestriction.UriSkipT)get_store().add_element_user(URISKIP$0);
+            return target;
+        }
+    }
+}
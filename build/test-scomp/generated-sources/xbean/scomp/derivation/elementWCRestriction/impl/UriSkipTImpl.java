@@ -0,0 +1,24 @@
+/*
+ * XML Type:  UriSkipT
+ * Namespace: http://xbean/scomp/derivation/ElementWCRestriction
+ * Java type: xbean.scomp.derivation.elementWCRestriction.UriSkipT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.elementWCRestriction.impl;
+/**
+ * An XML UriSkipT(@http://xbean/scomp/derivation/ElementWCRestriction).
+ *
+ * This is a complex type.
+ */
+public class UriSkipTImpl extends xbean.scomp.namespace.elementWC.impl.AnyLaxTImpl implements xbean.scomp.derivation.elementWCRestriction.UriSkipT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UriSkipTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
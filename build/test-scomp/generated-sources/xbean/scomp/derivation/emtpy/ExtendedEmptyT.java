@@ -0,0 +1,208 @@
+/*
+ * XML Type:  ExtendedEmptyT
+ * Namespace: http://xbean/scomp/derivation/Emtpy
+ * Java type: xbean.scomp.derivation.emtpy.ExtendedEmptyT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.emtpy;
+
+
+/**
+ * An XML ExtendedEmptyT(@http://xbean/scomp/derivation/Emtpy).
+ *
+ * This is a complex type.
+ */
+public interface ExtendedEmptyT extends xbean.scomp.contentType.complexTypeTest.EmptyT
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ExtendedEmptyT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("extendedemptyt9eectype");
+    
+    /**
+     * Gets the "extendedChild" element
+     */
+    xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild getExtendedChild();
+    
+    /**
+     * Sets the "extendedChild" element
+     */
+    void setExtendedChild(xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild extendedChild);
+    
+    /**
+     * Appends and returns a new empty "extendedChild" element
+     */
+    xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild addNewExtendedChild();
+    
+    /**
+     * Gets the "extendedAttr" attribute
+     */
+    java.lang.String getExtendedAttr();
+    
+    /**
+     * Gets (as xml) the "extendedAttr" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetExtendedAttr();
+    
+    /**
+     * True if has "extendedAttr" attribute
+     */
+    boolean isSetExtendedAttr();
+    
+    /**
+     * Sets the "extendedAttr" attribute
+     */
+    void setExtendedAttr(java.lang.String extendedAttr);
+    
+    /**
+     * Sets (as xml) the "extendedAttr" attribute
+     */
+    void xsetExtendedAttr(org.apache.xmlbeans.XmlString extendedAttr);
+    
+    /**
+     * Unsets the "extendedAttr" attribute
+     */
+    void unsetExtendedAttr();
+    
+    /**
+     * An XML extendedChild(@).
+     *
+     * This is a complex type.
+     */
+    public interface ExtendedChild extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ExtendedChild.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("extendedchildc66delemtype");
+        
+        /**
+         * Gets the "subCh1" element
+         */
+        java.lang.String getSubCh1();
+        
+        /**
+         * Gets (as xml) the "subCh1" element
+         */
+        org.apache.xmlbeans.XmlString xgetSubCh1();
+        
+        /**
+         * Sets the "subCh1" element
+         */
+        void setSubCh1(java.lang.String subCh1);
+        
+        /**
+         * Sets (as xml) the "subCh1" element
+         */
+        void xsetSubCh1(org.apache.xmlbeans.XmlString subCh1);
+        
+        /**
+         * Gets the "subCh2" element
+         */
+        float getSubCh2();
+        
+        /**
+         * Gets (as xml) the "subCh2" element
+         */
+        org.apache.xmlbeans.XmlFloat xgetSubCh2();
+        
+        /**
+         * Sets the "subCh2" element
+         */
+        void setSubCh2(float subCh2);
+        
+        /**
+         * Sets (as xml) the "subCh2" element
+         */
+        void xsetSubCh2(org.apache.xmlbeans.XmlFloat subCh2);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild newInstance() {
+              return (xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT newInstance() {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.emtpy.ExtendedEmptyT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.emtpy.ExtendedEmptyT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ExtendedEmptyElt
+ * Namespace: http://xbean/scomp/derivation/Emtpy
+ * Java type: xbean.scomp.derivation.emtpy.ExtendedEmptyEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.emtpy.impl;
+/**
+ * A document containing one ExtendedEmptyElt(@http://xbean/scomp/derivation/Emtpy) element.
+ *
+ * This is a complex type.
+ */
+public class ExtendedEmptyEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.emtpy.ExtendedEmptyEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedEmptyEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDEMPTYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Emtpy", "ExtendedEmptyElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1814902937:
+                if (name.equals(EXTENDEDEMPTYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ExtendedEmptyElt" element
+     */
+    public xbean.scomp.derivation.emtpy.ExtendedEmptyT getExtendedEmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.ExtendedEmptyT target = null;
+            target = (xbean.scomp.derivation.emtpy.ExtendedEmptyT)get_store().find_element_user(EXTENDEDEMPTYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ExtendedEmptyElt" element
+     */
+    public void setExtendedEmptyElt(xbean.scomp.derivation.emtpy.ExtendedEmptyT extendedEmptyElt)
+    {
+        generatedSetterHelperImpl(extendedEmptyElt, EXTENDEDEMPTYELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ExtendedEmptyElt" element
+     */
+    public xbean.scomp.derivation.emtpy.ExtendedEmptyT addNewExtendedEmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.ExtendedEmptyT target = null;
+            target = (xbean.scomp.derivation.emtpy.ExtendedEmptyT)get_store().add_element_user(EXTENDEDEMPTYELT$0);
+            return target;
+        }
+    }
+}
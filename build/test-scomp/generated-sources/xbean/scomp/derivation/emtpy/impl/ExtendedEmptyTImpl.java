@@ -0,0 +1,360 @@
+/*
+ * XML Type:  ExtendedEmptyT
+ * Namespace: http://xbean/scomp/derivation/Emtpy
+ * Java type: xbean.scomp.derivation.emtpy.ExtendedEmptyT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.emtpy.impl;
+/**
+ * An XML ExtendedEmptyT(@http://xbean/scomp/derivation/Emtpy).
+ *
+ * This is a complex type.
+ */
+public class ExtendedEmptyTImpl extends xbean.scomp.contentType.complexTypeTest.impl.EmptyTImpl implements xbean.scomp.derivation.emtpy.ExtendedEmptyT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedEmptyTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDCHILD$0 = 
+        new javax.xml.namespace.QName("", "extendedChild");
+    private static final javax.xml.namespace.QName EXTENDEDATTR$2 = 
+        new javax.xml.namespace.QName("", "extendedAttr");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1682568035:
+                if (name.equals(EXTENDEDCHILD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "extendedChild" element
+     */
+    public xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild getExtendedChild()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild target = null;
+            target = (xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild)get_store().find_element_user(EXTENDEDCHILD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedChild" element
+     */
+    public void setExtendedChild(xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild extendedChild)
+    {
+        generatedSetterHelperImpl(extendedChild, EXTENDEDCHILD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "extendedChild" element
+     */
+    public xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild addNewExtendedChild()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild target = null;
+            target = (xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild)get_store().add_element_user(EXTENDEDCHILD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "extendedAttr" attribute
+     */
+    public java.lang.String getExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXTENDEDATTR$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXTENDEDATTR$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "extendedAttr" attribute
+     */
+    public boolean isSetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(EXTENDEDATTR$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "extendedAttr" attribute
+     */
+    public void setExtendedAttr(java.lang.String extendedAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXTENDEDATTR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EXTENDEDATTR$2);
+            }
+            target.setStringValue(extendedAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedAttr" attribute
+     */
+    public void xsetExtendedAttr(org.apache.xmlbeans.XmlString extendedAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXTENDEDATTR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EXTENDEDATTR$2);
+            }
+            target.set(extendedAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "extendedAttr" attribute
+     */
+    public void unsetExtendedAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(EXTENDEDATTR$2);
+        }
+    }
+    /**
+     * An XML extendedChild(@).
+     *
+     * This is a complex type.
+     */
+    public static class ExtendedChildImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.emtpy.ExtendedEmptyT.ExtendedChild
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ExtendedChildImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName SUBCH1$0 = 
+            new javax.xml.namespace.QName("", "subCh1");
+        private static final javax.xml.namespace.QName SUBCH2$2 = 
+            new javax.xml.namespace.QName("", "subCh2");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -891575796:
+                    if (name.equals(SUBCH1$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -891575795:
+                    if (name.equals(SUBCH2$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "subCh1" element
+         */
+        public java.lang.String getSubCh1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBCH1$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "subCh1" element
+         */
+        public org.apache.xmlbeans.XmlString xgetSubCh1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBCH1$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "subCh1" element
+         */
+        public void setSubCh1(java.lang.String subCh1)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBCH1$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBCH1$0);
+                }
+                target.setStringValue(subCh1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "subCh1" element
+         */
+        public void xsetSubCh1(org.apache.xmlbeans.XmlString subCh1)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBCH1$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SUBCH1$0);
+                }
+                target.set(subCh1);
+            }
+        }
+        
+        /**
+         * Gets the "subCh2" element
+         */
+        public float getSubCh2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(SUBCH2$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBCH2$2, 0);
+                if (target == null)
+                {
+                    return 0.0f;
+                }
+                return target.getFloatValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "subCh2" element
+         */
+        public org.apache.xmlbeans.XmlFloat xgetSubCh2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(SUBCH2$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "subCh2" element
+         */
+        public void setSubCh2(float subCh2)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBCH2$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBCH2$2);
+                }
+                target.setFloatValue(subCh2);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "subCh2" element
+         */
+        public void xsetSubCh2(org.apache.xmlbeans.XmlFloat subCh2)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(SUBCH2$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlFloat)get_store().add_element_user(SUBCH2$2);
+                }
+                target.set(subCh2);
+            }
+        }
+    }
+}
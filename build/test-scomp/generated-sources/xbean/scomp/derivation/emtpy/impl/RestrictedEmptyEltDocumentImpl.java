@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: RestrictedEmptyElt
+ * Namespace: http://xbean/scomp/derivation/Emtpy
+ * Java type: xbean.scomp.derivation.emtpy.RestrictedEmptyEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.emtpy.impl;
+/**
+ * A document containing one RestrictedEmptyElt(@http://xbean/scomp/derivation/Emtpy) element.
+ *
+ * This is a complex type.
+ */
+public class RestrictedEmptyEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.emtpy.RestrictedEmptyEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedEmptyEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESTRICTEDEMPTYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Emtpy", "RestrictedEmptyElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1185810875:
+                if (name.equals(RESTRICTEDEMPTYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "RestrictedEmptyElt" element
+     */
+    public xbean.scomp.derivation.emtpy.RestrictedEmptyT getRestrictedEmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.RestrictedEmptyT target = null;
+            target = (xbean.scomp.derivation.emtpy.RestrictedEmptyT)get_store().find_element_user(RESTRICTEDEMPTYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RestrictedEmptyElt" element
+     */
+    public void setRestrictedEmptyElt(xbean.scomp.derivation.emtpy.RestrictedEmptyT restrictedEmptyElt)
+    {
+        generatedSetterHelperImpl(restrictedEmptyElt, RESTRICTEDEMPTYELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "RestrictedEmptyElt" element
+     */
+    public xbean.scomp.derivation.emtpy.RestrictedEmptyT addNewRestrictedEmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.emtpy.RestrictedEmptyT target = null;
+            target = (xbean.scomp.derivation.emtpy.RestrictedEmptyT)get_store().add_element_user(RESTRICTEDEMPTYELT$0);
+            return target;
+        }
+    }
+}
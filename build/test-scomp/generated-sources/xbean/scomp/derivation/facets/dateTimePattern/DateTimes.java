@@ -0,0 +1,196 @@
+/*
+ * XML Type:  DateTimes
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.DateTimes
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern;
+
+
+/**
+ * An XML DateTimes(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is a complex type.
+ */
+public interface DateTimes extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DateTimes.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("datetimes8085type");
+    
+    /**
+     * Gets the "extendedDate1" element
+     */
+    java.util.Calendar getExtendedDate1();
+    
+    /**
+     * Gets (as xml) the "extendedDate1" element
+     */
+    xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 xgetExtendedDate1();
+    
+    /**
+     * Sets the "extendedDate1" element
+     */
+    void setExtendedDate1(java.util.Calendar extendedDate1);
+    
+    /**
+     * Sets (as xml) the "extendedDate1" element
+     */
+    void xsetExtendedDate1(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 extendedDate1);
+    
+    /**
+     * Gets the "extendedDate2" element
+     */
+    java.lang.String getExtendedDate2();
+    
+    /**
+     * Gets (as xml) the "extendedDate2" element
+     */
+    xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 xgetExtendedDate2();
+    
+    /**
+     * Sets the "extendedDate2" element
+     */
+    void setExtendedDate2(java.lang.String extendedDate2);
+    
+    /**
+     * Sets (as xml) the "extendedDate2" element
+     */
+    void xsetExtendedDate2(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 extendedDate2);
+    
+    /**
+     * Gets the "extendedDateTime1" element
+     */
+    java.util.Calendar getExtendedDateTime1();
+    
+    /**
+     * Gets (as xml) the "extendedDateTime1" element
+     */
+    xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 xgetExtendedDateTime1();
+    
+    /**
+     * Sets the "extendedDateTime1" element
+     */
+    void setExtendedDateTime1(java.util.Calendar extendedDateTime1);
+    
+    /**
+     * Sets (as xml) the "extendedDateTime1" element
+     */
+    void xsetExtendedDateTime1(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 extendedDateTime1);
+    
+    /**
+     * Gets the "extendedDateTime2" element
+     */
+    java.util.Calendar getExtendedDateTime2();
+    
+    /**
+     * Gets (as xml) the "extendedDateTime2" element
+     */
+    xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 xgetExtendedDateTime2();
+    
+    /**
+     * Sets the "extendedDateTime2" element
+     */
+    void setExtendedDateTime2(java.util.Calendar extendedDateTime2);
+    
+    /**
+     * Sets (as xml) the "extendedDateTime2" element
+     */
+    void xsetExtendedDateTime2(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 extendedDateTime2);
+    
+    /**
+     * Gets the "extendedDateTimeAny3" element
+     */
+    java.util.Calendar getExtendedDateTimeAny3();
+    
+    /**
+     * Gets (as xml) the "extendedDateTimeAny3" element
+     */
+    xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 xgetExtendedDateTimeAny3();
+    
+    /**
+     * Sets the "extendedDateTimeAny3" element
+     */
+    void setExtendedDateTimeAny3(java.util.Calendar extendedDateTimeAny3);
+    
+    /**
+     * Sets (as xml) the "extendedDateTimeAny3" element
+     */
+    void xsetExtendedDateTimeAny3(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 extendedDateTimeAny3);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes newInstance() {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.facets.dateTimePattern.DateTimes parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.facets.dateTimePattern.DateTimes) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
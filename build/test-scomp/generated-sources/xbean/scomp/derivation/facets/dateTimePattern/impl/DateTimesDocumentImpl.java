@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: DateTimes
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.DateTimesDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * A document containing one DateTimes(@http://xbean/scomp/derivation/facets/DateTimePattern) element.
+ *
+ * This is a complex type.
+ */
+public class DateTimesDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.dateTimePattern.DateTimesDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateTimesDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DATETIMES$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "DateTimes");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1744626712:
+                if (name.equals(DATETIMES$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DateTimes" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.DateTimes getDateTimes()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.DateTimes target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.DateTimes)get_store().find_element_user(DATETIMES$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DateTimes" element
+     */
+    public void setDateTimes(xbean.scomp.derivation.facets.dateTimePattern.DateTimes dateTimes)
+    {
+        generatedSetterHelperImpl(dateTimes, DATETIMES$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "DateTimes" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.DateTimes addNewDateTimes()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.DateTimes target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.DateTimes)get_store().add_element_user(DATETIMES$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * XML Type:  DateTimes
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.DateTimes
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML DateTimes(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is a complex type.
+ */
+public class DateTimesImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.dateTimePattern.DateTimes
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateTimesImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENDEDDATE1$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "extendedDate1");
+    private static final javax.xml.namespace.QName EXTENDEDDATE2$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "extendedDate2");
+    private static final javax.xml.namespace.QName EXTENDEDDATETIME1$4 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "extendedDateTime1");
+    private static final javax.xml.namespace.QName EXTENDEDDATETIME2$6 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "extendedDateTime2");
+    private static final javax.xml.namespace.QName EXTENDEDDATETIMEANY3$8 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/DateTimePattern", "extendedDateTimeAny3");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 738645467:
+                if (name.equals(EXTENDEDDATETIMEANY3$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1683293322:
+                if (name.equals(EXTENDEDDATE1$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1683293323:
+                if (name.equals(EXTENDEDDATE2$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1944733373:
+                if (name.equals(EXTENDEDDATETIME1$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1944733374:
+                if (name.equals(EXTENDEDDATETIME2$6))
+                    return ORDINAL$BASE + 3;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "extendedDate1" element
+     */
+    public java.util.Calendar getExtendedDate1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATE1$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedDate1" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 xgetExtendedDate1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1)get_store().find_element_user(EXTENDEDDATE1$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedDate1" element
+     */
+    public void setExtendedDate1(java.util.Calendar extendedDate1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATE1$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENDEDDATE1$0);
+            }
+            target.setCalendarValue(extendedDate1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedDate1" element
+     */
+    public void xsetExtendedDate1(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 extendedDate1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1)get_store().find_element_user(EXTENDEDDATE1$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1)get_store().add_element_user(EXTENDEDDATE1$0);
+            }
+            target.set(extendedDate1);
+        }
+    }
+    
+    /**
+     * Gets the "extendedDate2" element
+     */
+    public java.lang.String getExtendedDate2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATE2$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedDate2" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 xgetExtendedDate2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2)get_store().find_element_user(EXTENDEDDATE2$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedDate2" element
+     */
+    public void setExtendedDate2(java.lang.String extendedDate2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATE2$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENDEDDATE2$2);
+            }
+            target.setStringValue(extendedDate2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedDate2" element
+     */
+    public void xsetExtendedDate2(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 extendedDate2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2)get_store().find_element_user(EXTENDEDDATE2$2, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2)get_store().add_element_user(EXTENDEDDATE2$2);
+            }
+            target.set(extendedDate2);
+        }
+    }
+    
+    /**
+     * Gets the "extendedDateTime1" element
+     */
+    public java.util.Calendar getExtendedDateTime1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIME1$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedDateTime1" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 xgetExtendedDateTime1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1)get_store().find_element_user(EXTENDEDDATETIME1$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedDateTime1" element
+     */
+    public void setExtendedDateTime1(java.util.Calendar extendedDateTime1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIME1$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENDEDDATETIME1$4);
+            }
+            target.setCalendarValue(extendedDateTime1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedDateTime1" element
+     */
+    public void xsetExtendedDateTime1(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 extendedDateTime1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1)get_store().find_element_user(EXTENDEDDATETIME1$4, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1)get_store().add_element_user(EXTENDEDDATETIME1$4);
+            }
+            target.set(extendedDateTime1);
+        }
+    }
+    
+    /**
+     * Gets the "extendedDateTime2" element
+     */
+    public java.util.Calendar getExtendedDateTime2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIME2$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedDateTime2" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 xgetExtendedDateTime2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2)get_store().find_element_user(EXTENDEDDATETIME2$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedDateTime2" element
+     */
+    public void setExtendedDateTime2(java.util.Calendar extendedDateTime2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIME2$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENDEDDATETIME2$6);
+            }
+            target.setCalendarValue(extendedDateTime2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedDateTime2" element
+     */
+    public void xsetExtendedDateTime2(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 extendedDateTime2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2)get_store().find_element_user(EXTENDEDDATETIME2$6, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2)get_store().add_element_user(EXTENDEDDATETIME2$6);
+            }
+            target.set(extendedDateTime2);
+        }
+    }
+    
+    /**
+     * Gets the "extendedDateTimeAny3" element
+     */
+    public java.util.Calendar getExtendedDateTimeAny3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIMEANY3$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extendedDateTimeAny3" element
+     */
+    public xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 xgetExtendedDateTimeAny3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3)get_store().find_element_user(EXTENDEDDATETIMEANY3$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extendedDateTimeAny3" element
+     */
+    public void setExtendedDateTimeAny3(java.util.Calendar extendedDateTimeAny3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENDEDDATETIMEANY3$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENDEDDATETIMEANY3$8);
+            }
+            target.setCalendarValue(extendedDateTimeAny3);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extendedDateTimeAny3" element
+     */
+    public void xsetExtendedDateTimeAny3(xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 extendedDateTimeAny3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3 target = null;
+            target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3)get_store().find_element_user(EXTENDEDDATETIMEANY3$8, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3)get_store().add_element_user(EXTENDEDDATETIMEANY3$8);
+            }
+            target.set(extendedDateTimeAny3);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  extendedDate1
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML extendedDate1(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1.
+ */
+public class ExtendedDate1Impl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedDate1Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ExtendedDate1Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
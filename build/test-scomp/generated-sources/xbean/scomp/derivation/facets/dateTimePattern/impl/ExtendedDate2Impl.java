@@ -0,0 +1,27 @@
+/*
+ * XML Type:  extendedDate2
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML extendedDate2(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2.
+ */
+public class ExtendedDate2Impl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedDate2Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ExtendedDate2Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
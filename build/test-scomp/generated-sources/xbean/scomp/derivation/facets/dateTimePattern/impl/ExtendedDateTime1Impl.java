@@ -0,0 +1,27 @@
+/*
+ * XML Type:  extendedDateTime1
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML extendedDateTime1(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1.
+ */
+public class ExtendedDateTime1Impl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime1
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedDateTime1Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ExtendedDateTime1Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
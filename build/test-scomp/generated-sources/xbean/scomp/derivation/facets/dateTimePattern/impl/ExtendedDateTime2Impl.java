@@ -0,0 +1,27 @@
+/*
+ * XML Type:  extendedDateTime2
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML extendedDateTime2(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2.
+ */
+public class ExtendedDateTime2Impl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedDateTime2Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ExtendedDateTime2Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * XML Type:  extendedDateTimeAny3
+ * Namespace: http://xbean/scomp/derivation/facets/DateTimePattern
+ * Java type: xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.dateTimePattern.impl;
+/**
+ * An XML extendedDateTimeAny3(@http://xbean/scomp/derivation/facets/DateTimePattern).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1
+ *     xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2
+ */
+public class ExtendedDateTimeAny3Impl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTimeAny3, xbean.scomp.derivation.facets.dateTimePattern.ExtendedDate1, xbean.scomp.derivation.facets.dateTimePattern.ExtendedDateTime2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtendedDateTimeAny3Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ExtendedDateTimeAny3Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  DigitsT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.DigitsT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML DigitsT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.DigitsT.
+ */
+public class DigitsTImpl extends org.apache.xmlbeans.impl.values.JavaDecimalHolderEx implements xbean.scomp.derivation.facets.facetRestriction.DigitsT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DigitsTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DigitsTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: LengthElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.LengthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one LengthElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class LengthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.LengthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LengthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LENGTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "LengthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1902855111:
+                if (name.equals(LENGTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LengthElt" element
+     */
+    public java.math.BigInteger getLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LengthElt" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(LENGTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LengthElt" element
+     */
+    public void setLengthElt(java.math.BigInteger lengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LENGTHELT$0);
+            }
+            target.setBigIntegerValue(lengthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LengthElt" element
+     */
+    public void xsetLengthElt(org.apache.xmlbeans.XmlInteger lengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(LENGTHELT$0);
+            }
+            target.set(lengthElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxExclusiveDateElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one MinMaxExclusiveDateElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxExclusiveDateEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxExclusiveDateEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXEXCLUSIVEDATEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "MinMaxExclusiveDateElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -662044781:
+                if (name.equals(MINMAXEXCLUSIVEDATEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxExclusiveDateElt" element
+     */
+    public java.util.Calendar getMinMaxExclusiveDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXEXCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinMaxExclusiveDateElt" element
+     */
+    public xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT xgetMinMaxExclusiveDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT)get_store().find_element_user(MINMAXEXCLUSIVEDATEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxExclusiveDateElt" element
+     */
+    public void setMinMaxExclusiveDateElt(java.util.Calendar minMaxExclusiveDateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXEXCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINMAXEXCLUSIVEDATEELT$0);
+            }
+            target.setCalendarValue(minMaxExclusiveDateElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinMaxExclusiveDateElt" element
+     */
+    public void xsetMinMaxExclusiveDateElt(xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT minMaxExclusiveDateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT)get_store().find_element_user(MINMAXEXCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT)get_store().add_element_user(MINMAXEXCLUSIVEDATEELT$0);
+            }
+            target.set(minMaxExclusiveDateElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxExclusiveDateT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML MinMaxExclusiveDateT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT.
+ */
+public class MinMaxExclusiveDateTImpl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements xbean.scomp.derivation.facets.facetRestriction.MinMaxExclusiveDateT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxExclusiveDateTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxExclusiveDateTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxInclusiveDateElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one MinMaxInclusiveDateElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxInclusiveDateEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxInclusiveDateEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXINCLUSIVEDATEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "MinMaxInclusiveDateElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -599830395:
+                if (name.equals(MINMAXINCLUSIVEDATEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxInclusiveDateElt" element
+     */
+    public java.util.Calendar getMinMaxInclusiveDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXINCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinMaxInclusiveDateElt" element
+     */
+    public xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT xgetMinMaxInclusiveDateElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT)get_store().find_element_user(MINMAXINCLUSIVEDATEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxInclusiveDateElt" element
+     */
+    public void setMinMaxInclusiveDateElt(java.util.Calendar minMaxInclusiveDateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXINCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINMAXINCLUSIVEDATEELT$0);
+            }
+            target.setCalendarValue(minMaxInclusiveDateElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinMaxInclusiveDateElt" element
+     */
+    public void xsetMinMaxInclusiveDateElt(xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT minMaxInclusiveDateElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT)get_store().find_element_user(MINMAXINCLUSIVEDATEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT)get_store().add_element_user(MINMAXINCLUSIVEDATEELT$0);
+            }
+            target.set(minMaxInclusiveDateElt);
+        }
+    }
+}
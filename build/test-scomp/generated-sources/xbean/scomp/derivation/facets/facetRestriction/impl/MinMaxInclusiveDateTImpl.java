@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxInclusiveDateT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML MinMaxInclusiveDateT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT.
+ */
+public class MinMaxInclusiveDateTImpl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveDateT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxInclusiveDateTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxInclusiveDateTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
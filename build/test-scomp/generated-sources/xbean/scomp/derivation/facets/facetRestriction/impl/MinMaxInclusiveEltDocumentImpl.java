@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxInclusiveElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one MinMaxInclusiveElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxInclusiveEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxInclusiveEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXINCLUSIVEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "MinMaxInclusiveElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1273945581:
+                if (name.equals(MINMAXINCLUSIVEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxInclusiveElt" element
+     */
+    public int getMinMaxInclusiveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINMAXINCLUSIVEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXINCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinMaxInclusiveElt" element
+     */
+    public xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT xgetMinMaxInclusiveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT)get_store().find_element_user(MINMAXINCLUSIVEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxInclusiveElt" element
+     */
+    public void setMinMaxInclusiveElt(int minMaxInclusiveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXINCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINMAXINCLUSIVEELT$0);
+            }
+            target.setIntValue(minMaxInclusiveElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinMaxInclusiveElt" element
+     */
+    public void xsetMinMaxInclusiveElt(xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT minMaxInclusiveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT)get_store().find_element_user(MINMAXINCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT)get_store().add_element_user(MINMAXINCLUSIVEELT$0);
+            }
+            target.set(minMaxInclusiveElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxInclusiveT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML MinMaxInclusiveT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT.
+ */
+public class MinMaxInclusiveTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.facets.facetRestriction.MinMaxInclusiveT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxInclusiveTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxInclusiveTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxLengthT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.MinMaxLengthT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML MinMaxLengthT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.MinMaxLengthT.
+ */
+public class MinMaxLengthTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.facets.facetRestriction.MinMaxLengthT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxLengthTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxLengthTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  PatternT
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.PatternT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML PatternT(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.PatternT.
+ */
+public class PatternTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.facets.facetRestriction.PatternT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PatternTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected PatternTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: WSCollapseElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.WSCollapseEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one WSCollapseElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class WSCollapseEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.WSCollapseEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WSCollapseEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WSCOLLAPSEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "WSCollapseElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1584452284:
+                if (name.equals(WSCOLLAPSEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "WSCollapseElt" element
+     */
+    public java.lang.String getWSCollapseElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSCOLLAPSEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "WSCollapseElt" element
+     */
+    public xbean.scomp.derivation.facets.facetRestriction.WSTCollapse xgetWSCollapseElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.WSTCollapse target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.WSTCollapse)get_store().find_element_user(WSCOLLAPSEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "WSCollapseElt" element
+     */
+    public void setWSCollapseElt(java.lang.String wsCollapseElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSCOLLAPSEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WSCOLLAPSEELT$0);
+            }
+            target.setStringValue(wsCollapseElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "WSCollapseElt" element
+     */
+    public void xsetWSCollapseElt(xbean.scomp.derivation.facets.facetRestriction.WSTCollapse wsCollapseElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.WSTCollapse target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.WSTCollapse)get_store().find_element_user(WSCOLLAPSEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facetRestriction.WSTCollapse)get_store().add_element_user(WSCOLLAPSEELT$0);
+            }
+            target.set(wsCollapseElt);
+        }
+    }
+}
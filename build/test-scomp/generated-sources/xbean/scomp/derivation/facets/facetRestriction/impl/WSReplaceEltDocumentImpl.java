@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: WSReplaceElt
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.WSReplaceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * A document containing one WSReplaceElt(@http://xbean/scomp/derivation/facets/FacetRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class WSReplaceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facetRestriction.WSReplaceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WSReplaceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WSREPLACEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/FacetRestriction", "WSReplaceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 282588501:
+                if (name.equals(WSREPLACEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "WSReplaceElt" element
+     */
+    public java.lang.String getWSReplaceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSREPLACEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "WSReplaceElt" element
+     */
+    public xbean.scomp.derivation.facets.facetRestriction.WSTReplace xgetWSReplaceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.WSTReplace target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.WSTReplace)get_store().find_element_user(WSREPLACEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "WSReplaceElt" element
+     */
+    public void setWSReplaceElt(java.lang.String wsReplaceElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSREPLACEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WSREPLACEELT$0);
+            }
+            target.setStringValue(wsReplaceElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "WSReplaceElt" element
+     */
+    public void xsetWSReplaceElt(xbean.scomp.derivation.facets.facetRestriction.WSTReplace wsReplaceElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facetRestriction.WSTReplace target = null;
+            target = (xbean.scomp.derivation.facets.facetRestriction.WSTReplace)get_store().find_element_user(WSREPLACEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facetRestriction.WSTReplace)get_store().add_element_user(WSREPLACEELT$0);
+            }
+            target.set(wsReplaceElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  WSTCollapse
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.WSTCollapse
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML WSTCollapse(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.WSTCollapse.
+ */
+public class WSTCollapseImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.facets.facetRestriction.WSTCollapse
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WSTCollapseImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected WSTCollapseImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
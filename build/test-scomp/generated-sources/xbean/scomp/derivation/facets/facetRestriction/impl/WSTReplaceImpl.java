@@ -0,0 +1,27 @@
+/*
+ * XML Type:  WSTReplace
+ * Namespace: http://xbean/scomp/derivation/facets/FacetRestriction
+ * Java type: xbean.scomp.derivation.facets.facetRestriction.WSTReplace
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facetRestriction.impl;
+/**
+ * An XML WSTReplace(@http://xbean/scomp/derivation/facets/FacetRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facetRestriction.WSTReplace.
+ */
+public class WSTReplaceImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.derivation.facets.facetRestriction.WSTReplace
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WSTReplaceImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected WSTReplaceImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DigitsElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.DigitsEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one DigitsElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class DigitsEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.DigitsEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DigitsEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DIGITSELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "DigitsElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1076793:
+                if (name.equals(DIGITSELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DigitsElt" element
+     */
+    public java.math.BigDecimal getDigitsElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DIGITSELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DigitsElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.DigitsT xgetDigitsElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.DigitsT target = null;
+            target = (xbean.scomp.derivation.facets.facets.DigitsT)get_store().find_element_user(DIGITSELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DigitsElt" element
+     */
+    public void setDigitsElt(java.math.BigDecimal digitsElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DIGITSELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DIGITSELT$0);
+            }
+            target.setBigDecimalValue(digitsElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DigitsElt" element
+     */
+    public void xsetDigitsElt(xbean.scomp.derivation.facets.facets.DigitsT digitsElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.DigitsT target = null;
+            target = (xbean.scomp.derivation.facets.facets.DigitsT)get_store().find_element_user(DIGITSELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.DigitsT)get_store().add_element_user(DIGITSELT$0);
+            }
+            target.set(digitsElt);
+        }
+    }
+}
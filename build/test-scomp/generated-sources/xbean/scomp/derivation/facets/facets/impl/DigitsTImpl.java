@@ -0,0 +1,27 @@
+/*
+ * XML Type:  DigitsT
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.DigitsT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * An XML DigitsT(@http://xbean/scomp/derivation/facets/Facets).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facets.DigitsT.
+ */
+public class DigitsTImpl extends org.apache.xmlbeans.impl.values.JavaDecimalHolderEx implements xbean.scomp.derivation.facets.facets.DigitsT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DigitsTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DigitsTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
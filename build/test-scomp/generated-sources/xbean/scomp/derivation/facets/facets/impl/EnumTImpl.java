@@ -0,0 +1,27 @@
+/*
+ * XML Type:  EnumT
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.EnumT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * An XML EnumT(@http://xbean/scomp/derivation/facets/Facets).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facets.EnumT.
+ */
+public class EnumTImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements xbean.scomp.derivation.facets.facets.EnumT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnumTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EnumTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: LengthElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.LengthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one LengthElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class LengthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.LengthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LengthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LENGTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "LengthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1902855111:
+                if (name.equals(LENGTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LengthElt" element
+     */
+    public java.lang.String getLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LengthElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.LengthT xgetLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.LengthT target = null;
+            target = (xbean.scomp.derivation.facets.facets.LengthT)get_store().find_element_user(LENGTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LengthElt" element
+     */
+    public void setLengthElt(java.lang.String lengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LENGTHELT$0);
+            }
+            target.setStringValue(lengthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LengthElt" element
+     */
+    public void xsetLengthElt(xbean.scomp.derivation.facets.facets.LengthT lengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.LengthT target = null;
+            target = (xbean.scomp.derivation.facets.facets.LengthT)get_store().find_element_user(LENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.LengthT)get_store().add_element_user(LENGTHELT$0);
+            }
+            target.set(lengthElt);
+        }
+    }
+}
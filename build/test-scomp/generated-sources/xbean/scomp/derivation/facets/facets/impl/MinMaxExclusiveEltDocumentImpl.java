@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxExclusiveElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.MinMaxExclusiveEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one MinMaxExclusiveElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxExclusiveEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.MinMaxExclusiveEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxExclusiveEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXEXCLUSIVEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "MinMaxExclusiveElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1715046433:
+                if (name.equals(MINMAXEXCLUSIVEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxExclusiveElt" element
+     */
+    public int getMinMaxExclusiveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINMAXEXCLUSIVEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXEXCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinMaxExclusiveElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.MinMaxExclusiveT xgetMinMaxExclusiveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.MinMaxExclusiveT target = null;
+            target = (xbean.scomp.derivation.facets.facets.MinMaxExclusiveT)get_store().find_element_user(MINMAXEXCLUSIVEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxExclusiveElt" element
+     */
+    public void setMinMaxExclusiveElt(int minMaxExclusiveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXEXCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINMAXEXCLUSIVEELT$0);
+            }
+            target.setIntValue(minMaxExclusiveElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinMaxExclusiveElt" element
+     */
+    public void xsetMinMaxExclusiveElt(xbean.scomp.derivation.facets.facets.MinMaxExclusiveT minMaxExclusiveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.MinMaxExclusiveT target = null;
+            target = (xbean.scomp.derivation.facets.facets.MinMaxExclusiveT)get_store().find_element_user(MINMAXEXCLUSIVEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.MinMaxExclusiveT)get_store().add_element_user(MINMAXEXCLUSIVEELT$0);
+            }
+            target.set(minMaxExclusiveElt);
+        }
+    }
+}
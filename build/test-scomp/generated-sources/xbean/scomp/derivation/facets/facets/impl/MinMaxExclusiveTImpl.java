@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxExclusiveT
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.MinMaxExclusiveT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * An XML MinMaxExclusiveT(@http://xbean/scomp/derivation/facets/Facets).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facets.MinMaxExclusiveT.
+ */
+public class MinMaxExclusiveTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.facets.facets.MinMaxExclusiveT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxExclusiveTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxExclusiveTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinMaxInclusiveT
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.MinMaxInclusiveT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * An XML MinMaxInclusiveT(@http://xbean/scomp/derivation/facets/Facets).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.facets.facets.MinMaxInclusiveT.
+ */
+public class MinMaxInclusiveTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.facets.facets.MinMaxInclusiveT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxInclusiveTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinMaxInclusiveTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
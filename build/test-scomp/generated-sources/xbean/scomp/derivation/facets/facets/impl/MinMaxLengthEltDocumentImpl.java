@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxLengthElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.MinMaxLengthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one MinMaxLengthElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxLengthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.MinMaxLengthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxLengthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXLENGTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "MinMaxLengthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -701352395:
+                if (name.equals(MINMAXLENGTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxLengthElt" element
+     */
+    public java.lang.String getMinMaxLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinMaxLengthElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.MinMaxLengthT xgetMinMaxLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.MinMaxLengthT target = null;
+            target = (xbean.scomp.derivation.facets.facets.MinMaxLengthT)get_store().find_element_user(MINMAXLENGTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxLengthElt" element
+     */
+    public void setMinMaxLengthElt(java.lang.String minMaxLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINMAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINMAXLENGTHELT$0);
+            }
+            target.setStringValue(minMaxLengthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinMaxLengthElt" element
+     */
+    public void xsetMinMaxLengthElt(xbean.scomp.derivation.facets.facets.MinMaxLengthT minMaxLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.MinMaxLengthT target = null;
+            target = (xbean.scomp.derivation.facets.facets.MinMaxLengthT)get_store().find_element_user(MINMAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.MinMaxLengthT)get_store().add_element_user(MINMAXLENGTHELT$0);
+            }
+            target.set(minMaxLengthElt);
+        }
+    }
+}
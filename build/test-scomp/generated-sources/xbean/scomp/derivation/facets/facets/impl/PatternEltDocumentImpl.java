@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: PatternElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.PatternEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one PatternElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class PatternEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.PatternEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PatternEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PATTERNELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "PatternElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1108317981:
+                if (name.equals(PATTERNELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "PatternElt" element
+     */
+    public java.lang.String getPatternElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PATTERNELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "PatternElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.PatternT xgetPatternElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.PatternT target = null;
+            target = (xbean.scomp.derivation.facets.facets.PatternT)get_store().find_element_user(PATTERNELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "PatternElt" element
+     */
+    public void setPatternElt(java.lang.String patternElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PATTERNELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PATTERNELT$0);
+            }
+            target.setStringValue(patternElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "PatternElt" element
+     */
+    public void xsetPatternElt(xbean.scomp.derivation.facets.facets.PatternT patternElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.PatternT target = null;
+            target = (xbean.scomp.derivation.facets.facets.PatternT)get_store().find_element_user(PATTERNELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.PatternT)get_store().add_element_user(PATTERNELT$0);
+            }
+            target.set(patternElt);
+        }
+    }
+}
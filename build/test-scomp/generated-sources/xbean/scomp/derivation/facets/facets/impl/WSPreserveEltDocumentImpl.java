@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: WSPreserveElt
+ * Namespace: http://xbean/scomp/derivation/facets/Facets
+ * Java type: xbean.scomp.derivation.facets.facets.WSPreserveEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.facets.impl;
+/**
+ * A document containing one WSPreserveElt(@http://xbean/scomp/derivation/facets/Facets) element.
+ *
+ * This is a complex type.
+ */
+public class WSPreserveEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.facets.WSPreserveEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WSPreserveEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WSPRESERVEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Facets", "WSPreserveElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1367430587:
+                if (name.equals(WSPRESERVEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "WSPreserveElt" element
+     */
+    public java.lang.String getWSPreserveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSPRESERVEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "WSPreserveElt" element
+     */
+    public xbean.scomp.derivation.facets.facets.WSTPreserve xgetWSPreserveElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.WSTPreserve target = null;
+            target = (xbean.scomp.derivation.facets.facets.WSTPreserve)get_store().find_element_user(WSPRESERVEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "WSPreserveElt" element
+     */
+    public void setWSPreserveElt(java.lang.String wsPreserveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WSPRESERVEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WSPRESERVEELT$0);
+            }
+            target.setStringValue(wsPreserveElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "WSPreserveElt" element
+     */
+    public void xsetWSPreserveElt(xbean.scomp.derivation.facets.facets.WSTPreserve wsPreserveElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.facets.WSTPreserve target = null;
+            target = (xbean.scomp.derivation.facets.facets.WSTPreserve)get_store().find_element_user(WSPRESERVEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.facets.WSTPreserve)get_store().add_element_user(WSPRESERVEELT$0);
+            }
+            target.set(wsPreserveElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: EnumElt
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.EnumEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * A document containing one EnumElt(@http://xbean/scomp/derivation/facets/List) element.
+ *
+ * This is a complex type.
+ */
+public class EnumEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.list.EnumEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnumEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ENUMELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/List", "EnumElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 73820108:
+                if (name.equals(ENUMELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EnumElt" element
+     */
+    public java.util.List getEnumElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENUMELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EnumElt" element
+     */
+    public xbean.scomp.derivation.facets.list.RestrictEnumListType xgetEnumElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.RestrictEnumListType target = null;
+            target = (xbean.scomp.derivation.facets.list.RestrictEnumListType)get_store().find_element_user(ENUMELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EnumElt" element
+     */
+    public void setEnumElt(java.util.List enumElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENUMELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENUMELT$0);
+            }
+            target.setListValue(enumElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EnumElt" element
+     */
+    public void xsetEnumElt(xbean.scomp.derivation.facets.list.RestrictEnumListType enumElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.RestrictEnumListType target = null;
+            target = (xbean.scomp.derivation.facets.list.RestrictEnumListType)get_store().find_element_user(ENUMELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.list.RestrictEnumListType)get_store().add_element_user(ENUMELT$0);
+            }
+            target.set(enumElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  LengthFacet
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.LengthFacet
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * An XML LengthFacet(@http://xbean/scomp/derivation/facets/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.list.ListAnonGlobalT$Item.
+ */
+public class LengthFacetImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.derivation.facets.list.LengthFacet
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LengthFacetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected LengthFacetImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
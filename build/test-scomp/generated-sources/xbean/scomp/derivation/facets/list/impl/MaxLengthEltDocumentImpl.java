@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MaxLengthElt
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.MaxLengthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * A document containing one MaxLengthElt(@http://xbean/scomp/derivation/facets/List) element.
+ *
+ * This is a complex type.
+ */
+public class MaxLengthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.list.MaxLengthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxLengthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MAXLENGTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/List", "MaxLengthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1360084221:
+                if (name.equals(MAXLENGTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MaxLengthElt" element
+     */
+    public java.util.List getMaxLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MaxLengthElt" element
+     */
+    public xbean.scomp.derivation.facets.list.MaxLengthFacet xgetMaxLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.MaxLengthFacet target = null;
+            target = (xbean.scomp.derivation.facets.list.MaxLengthFacet)get_store().find_element_user(MAXLENGTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MaxLengthElt" element
+     */
+    public void setMaxLengthElt(java.util.List maxLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MAXLENGTHELT$0);
+            }
+            target.setListValue(maxLengthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MaxLengthElt" element
+     */
+    public void xsetMaxLengthElt(xbean.scomp.derivation.facets.list.MaxLengthFacet maxLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.MaxLengthFacet target = null;
+            target = (xbean.scomp.derivation.facets.list.MaxLengthFacet)get_store().find_element_user(MAXLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.list.MaxLengthFacet)get_store().add_element_user(MAXLENGTHELT$0);
+            }
+            target.set(maxLengthElt);
+        }
+    }
+}
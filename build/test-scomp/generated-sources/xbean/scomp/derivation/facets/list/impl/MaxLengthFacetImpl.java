@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MaxLengthFacet
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.MaxLengthFacet
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * An XML MaxLengthFacet(@http://xbean/scomp/derivation/facets/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.list.ListAnonGlobalT$Item.
+ */
+public class MaxLengthFacetImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.derivation.facets.list.MaxLengthFacet
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxLengthFacetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MaxLengthFacetImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
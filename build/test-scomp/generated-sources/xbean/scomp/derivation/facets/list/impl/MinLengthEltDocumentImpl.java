@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: MinLengthElt
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.MinLengthEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * A document containing one MinLengthElt(@http://xbean/scomp/derivation/facets/List) element.
+ *
+ * This is a complex type.
+ */
+public class MinLengthEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.list.MinLengthEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinLengthEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINLENGTHELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/List", "MinLengthElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -885658155:
+                if (name.equals(MINLENGTHELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinLengthElt" element
+     */
+    public java.util.List getMinLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINLENGTHELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "MinLengthElt" element
+     */
+    public xbean.scomp.derivation.facets.list.MinLengthFacet xgetMinLengthElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.MinLengthFacet target = null;
+            target = (xbean.scomp.derivation.facets.list.MinLengthFacet)get_store().find_element_user(MINLENGTHELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MinLengthElt" element
+     */
+    public void setMinLengthElt(java.util.List minLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINLENGTHELT$0);
+            }
+            target.setListValue(minLengthElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "MinLengthElt" element
+     */
+    public void xsetMinLengthElt(xbean.scomp.derivation.facets.list.MinLengthFacet minLengthElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.list.MinLengthFacet target = null;
+            target = (xbean.scomp.derivation.facets.list.MinLengthFacet)get_store().find_element_user(MINLENGTHELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.list.MinLengthFacet)get_store().add_element_user(MINLENGTHELT$0);
+            }
+            target.set(minLengthElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  MinLengthFacet
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.MinLengthFacet
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * An XML MinLengthFacet(@http://xbean/scomp/derivation/facets/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.list.ListAnonGlobalT$Item.
+ */
+public class MinLengthFacetImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.derivation.facets.list.MinLengthFacet
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinLengthFacetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MinLengthFacetImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
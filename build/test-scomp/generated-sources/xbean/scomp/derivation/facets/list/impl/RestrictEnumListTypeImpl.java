@@ -0,0 +1,27 @@
+/*
+ * XML Type:  RestrictEnumListType
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.RestrictEnumListType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * An XML RestrictEnumListType(@http://xbean/scomp/derivation/facets/List).
+ *
+ * This is a list type whose items are xbean.scomp.contentType.union.UnionAnonGlobalT.
+ */
+public class RestrictEnumListTypeImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.derivation.facets.list.RestrictEnumListType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictEnumListTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected RestrictEnumListTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
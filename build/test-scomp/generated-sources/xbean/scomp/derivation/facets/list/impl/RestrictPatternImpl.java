@@ -0,0 +1,27 @@
+/*
+ * XML Type:  RestrictPattern
+ * Namespace: http://xbean/scomp/derivation/facets/List
+ * Java type: xbean.scomp.derivation.facets.list.RestrictPattern
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.list.impl;
+/**
+ * An XML RestrictPattern(@http://xbean/scomp/derivation/facets/List).
+ *
+ * This is a list type whose items are org.apache.xmlbeans.XmlUnsignedInt.
+ */
+public class RestrictPatternImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements xbean.scomp.derivation.facets.list.RestrictPattern
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictPatternImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected RestrictPatternImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
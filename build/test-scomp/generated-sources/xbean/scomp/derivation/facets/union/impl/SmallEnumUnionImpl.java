@@ -0,0 +1,30 @@
+/*
+ * XML Type:  SmallEnumUnion
+ * Namespace: http://xbean/scomp/derivation/facets/Union
+ * Java type: xbean.scomp.derivation.facets.union.SmallEnumUnion
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.union.impl;
+/**
+ * An XML SmallEnumUnion(@http://xbean/scomp/derivation/facets/Union).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.contentType.union.GlobalSimpleT1
+ *     xbean.scomp.contentType.union.GlobalSimpleT2
+ *     xbean.scomp.contentType.union.UnionAnonGlobalT$Member
+ */
+public class SmallEnumUnionImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.derivation.facets.union.SmallEnumUnion, xbean.scomp.contentType.union.GlobalSimpleT1, xbean.scomp.contentType.union.GlobalSimpleT2, xbean.scomp.contentType.union.UnionAnonGlobalT.Member
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SmallEnumUnionImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SmallEnumUnionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * XML Type:  SmallPatternUnion
+ * Namespace: http://xbean/scomp/derivation/facets/Union
+ * Java type: xbean.scomp.derivation.facets.union.SmallPatternUnion
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.union.impl;
+/**
+ * An XML SmallPatternUnion(@http://xbean/scomp/derivation/facets/Union).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     xbean.scomp.contentType.union.GlobalSimpleT1
+ *     xbean.scomp.contentType.union.GlobalSimpleT2
+ *     xbean.scomp.contentType.union.UnionAnonGlobalT$Member
+ */
+public class SmallPatternUnionImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements xbean.scomp.derivation.facets.union.SmallPatternUnion, xbean.scomp.contentType.union.GlobalSimpleT1, xbean.scomp.contentType.union.GlobalSimpleT2, xbean.scomp.contentType.union.UnionAnonGlobalT.Member
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SmallPatternUnionImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SmallPatternUnionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
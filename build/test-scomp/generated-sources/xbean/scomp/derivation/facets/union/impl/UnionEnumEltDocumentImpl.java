@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnionEnumElt
+ * Namespace: http://xbean/scomp/derivation/facets/Union
+ * Java type: xbean.scomp.derivation.facets.union.UnionEnumEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.union.impl;
+/**
+ * A document containing one UnionEnumElt(@http://xbean/scomp/derivation/facets/Union) element.
+ *
+ * This is a complex type.
+ */
+public class UnionEnumEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.union.UnionEnumEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionEnumEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONENUMELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Union", "UnionEnumElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1422660035:
+                if (name.equals(UNIONENUMELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnionEnumElt" element
+     */
+    public java.lang.Object getUnionEnumElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONENUMELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getObjectValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnionEnumElt" element
+     */
+    public xbean.scomp.derivation.facets.union.SmallEnumUnion xgetUnionEnumElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.union.SmallEnumUnion target = null;
+            target = (xbean.scomp.derivation.facets.union.SmallEnumUnion)get_store().find_element_user(UNIONENUMELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnionEnumElt" element
+     */
+    public void setUnionEnumElt(java.lang.Object unionEnumElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONENUMELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIONENUMELT$0);
+            }
+            target.setObjectValue(unionEnumElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnionEnumElt" element
+     */
+    public void xsetUnionEnumElt(xbean.scomp.derivation.facets.union.SmallEnumUnion unionEnumElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.union.SmallEnumUnion target = null;
+            target = (xbean.scomp.derivation.facets.union.SmallEnumUnion)get_store().find_element_user(UNIONENUMELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.union.SmallEnumUnion)get_store().add_element_user(UNIONENUMELT$0);
+            }
+            target.set(unionEnumElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: UnionPatternElt
+ * Namespace: http://xbean/scomp/derivation/facets/Union
+ * Java type: xbean.scomp.derivation.facets.union.UnionPatternEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.facets.union.impl;
+/**
+ * A document containing one UnionPatternElt(@http://xbean/scomp/derivation/facets/Union) element.
+ *
+ * This is a complex type.
+ */
+public class UnionPatternEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.facets.union.UnionPatternEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionPatternEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONPATTERNELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/facets/Union", "UnionPatternElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1228910348:
+                if (name.equals(UNIONPATTERNELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UnionPatternElt" element
+     */
+    public java.lang.Object getUnionPatternElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONPATTERNELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getObjectValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "UnionPatternElt" element
+     */
+    public xbean.scomp.derivation.facets.union.SmallPatternUnion xgetUnionPatternElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.union.SmallPatternUnion target = null;
+            target = (xbean.scomp.derivation.facets.union.SmallPatternUnion)get_store().find_element_user(UNIONPATTERNELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UnionPatternElt" element
+     */
+    public void setUnionPatternElt(java.lang.Object unionPatternElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIONPATTERNELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIONPATTERNELT$0);
+            }
+            target.setObjectValue(unionPatternElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "UnionPatternElt" element
+     */
+    public void xsetUnionPatternElt(xbean.scomp.derivation.facets.union.SmallPatternUnion unionPatternElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.facets.union.SmallPatternUnion target = null;
+            target = (xbean.scomp.derivation.facets.union.SmallPatternUnion)get_store().find_element_user(UNIONPATTERNELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.facets.union.SmallPatternUnion)get_store().add_element_user(UNIONPATTERNELT$0);
+            }
+            target.set(unionPatternElt);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltDefaultBlock
+ * Namespace: http://xbean/scomp/derivation/FinalBlockDefault
+ * Java type: xbean.scomp.derivation.finalBlockDefault.EltDefaultBlockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.finalBlockDefault.impl;
+/**
+ * A document containing one EltDefaultBlock(@http://xbean/scomp/derivation/FinalBlockDefault) element.
+ *
+ * This is a complex type.
+ */
+public class EltDefaultBlockDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.finalBlockDefault.EltDefaultBlockDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltDefaultBlockDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTDEFAULTBLOCK$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/FinalBlockDefault", "EltDefaultBlock");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1988147193:
+                if (name.equals(ELTDEFAULTBLOCK$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltDefaultBlock" element
+     */
+    public xbean.scomp.derivation.finalBlockDefault.BlockNoneT getEltDefaultBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.finalBlockDefault.BlockNoneT target = null;
+            target = (xbean.scomp.derivation.finalBlockDefault.BlockNoneT)get_store().find_element_user(ELTDEFAULTBLOCK$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltDefaultBlock" element
+     */
+    public void setEltDefaultBlock(xbean.scomp.derivation.finalBlockDefault.BlockNoneT eltDefaultBlock)
+    {
+        generatedSetterHelperImpl(eltDefaultBlock, ELTDEFAULTBLOCK$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltDefaultBlock" element
+     */
+    public xbean.scomp.derivation.finalBlockDefault.BlockNoneT addNewEltDefaultBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.finalBlockDefault.BlockNoneT target = null;
+            target = (xbean.scomp.derivation.finalBlockDefault.BlockNoneT)get_store().add_element_user(ELTDEFAULTBLOCK$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltNoBlock
+ * Namespace: http://xbean/scomp/derivation/FinalBlockDefault
+ * Java type: xbean.scomp.derivation.finalBlockDefault.EltNoBlockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.finalBlockDefault.impl;
+/**
+ * A document containing one EltNoBlock(@http://xbean/scomp/derivation/FinalBlockDefault) element.
+ *
+ * This is a complex type.
+ */
+public class EltNoBlockDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.finalBlockDefault.EltNoBlockDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltNoBlockDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTNOBLOCK$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/FinalBlockDefault", "EltNoBlock");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1444378111:
+                if (name.equals(ELTNOBLOCK$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltNoBlock" element
+     */
+    public xbean.scomp.derivation.finalBlockDefault.BlockEmptyT getEltNoBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.finalBlockDefault.BlockEmptyT target = null;
+            target = (xbean.scomp.derivation.finalBlockDefault.BlockEmptyT)get_store().find_element_user(ELTNOBLOCK$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltNoBlock" element
+     */
+    public void setEltNoBlock(xbean.scomp.derivation.finalBlockDefault.BlockEmptyT eltNoBlock)
+    {
+        generatedSetterHelperImpl(eltNoBlock, ELTNOBLOCK$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltNoBlock" element
+     */
+    public xbean.scomp.derivation.finalBlockDefault.BlockEmptyT addNewEltNoBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.finalBlockDefault.BlockEmptyT target = null;
+            target = (xbean.scomp.derivation.finalBlockDefault.BlockEmptyT)get_store().add_element_user(ELTNOBLOCK$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restAllT
+ * Namespace: http://xbean/scomp/derivation/FinalBlockDefault
+ * Java type: xbean.scomp.derivation.finalBlockDefault.RestAllT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.finalBlockDefault.impl;
+/**
+ * An XML restAllT(@http://xbean/scomp/derivation/FinalBlockDefault).
+ *
+ * This is a complex type.
+ */
+public class RestAllTImpl extends xbean.scomp.derivation.finalBlockDefault.impl.BlockEmptyTImpl implements xbean.scomp.derivation.finalBlockDefault.RestAllT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestAllTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restNoneT
+ * Namespace: http://xbean/scomp/derivation/FinalBlockDefault
+ * Java type: xbean.scomp.derivation.finalBlockDefault.RestNoneT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.finalBlockDefault.impl;
+/**
+ * An XML restNoneT(@http://xbean/scomp/derivation/FinalBlockDefault).
+ *
+ * This is a complex type.
+ */
+public class RestNoneTImpl extends xbean.scomp.derivation.finalBlockDefault.impl.BlockNoneTImpl implements xbean.scomp.derivation.finalBlockDefault.RestNoneT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestNoneTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,236 @@
+/*
+ * XML Type:  Choice2SequenceT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.Choice2SequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction;
+
+
+/**
+ * An XML Choice2SequenceT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public interface Choice2SequenceT extends xbean.scomp.derivation.groupRestriction.ReplaceableChoiceT
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Choice2SequenceT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("choice2sequencet1094type");
+    
+    /**
+     * Gets array of all "a" elements
+     */
+    java.lang.String[] getAArray();
+    
+    /**
+     * Gets ith "a" element
+     */
+    java.lang.String getAArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "a" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetAArray();
+    
+    /**
+     * Gets (as xml) ith "a" element
+     */
+    org.apache.xmlbeans.XmlString xgetAArray(int i);
+    
+    /**
+     * Returns number of "a" element
+     */
+    int sizeOfAArray();
+    
+    /**
+     * Sets array of all "a" element
+     */
+    void setAArray(java.lang.String[] aArray);
+    
+    /**
+     * Sets ith "a" element
+     */
+    void setAArray(int i, java.lang.String a);
+    
+    /**
+     * Sets (as xml) array of all "a" element
+     */
+    void xsetAArray(org.apache.xmlbeans.XmlString[] aArray);
+    
+    /**
+     * Sets (as xml) ith "a" element
+     */
+    void xsetAArray(int i, org.apache.xmlbeans.XmlString a);
+    
+    /**
+     * Inserts the value as the ith "a" element
+     */
+    void insertA(int i, java.lang.String a);
+    
+    /**
+     * Appends the value as the last "a" element
+     */
+    void addA(java.lang.String a);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a" element
+     */
+    org.apache.xmlbeans.XmlString insertNewA(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a" element
+     */
+    org.apache.xmlbeans.XmlString addNewA();
+    
+    /**
+     * Removes the ith "a" element
+     */
+    void removeA(int i);
+    
+    /**
+     * Gets array of all "c" elements
+     */
+    int[] getCArray();
+    
+    /**
+     * Gets ith "c" element
+     */
+    int getCArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "c" elements
+     */
+    org.apache.xmlbeans.XmlInt[] xgetCArray();
+    
+    /**
+     * Gets (as xml) ith "c" element
+     */
+    org.apache.xmlbeans.XmlInt xgetCArray(int i);
+    
+    /**
+     * Returns number of "c" element
+     */
+    int sizeOfCArray();
+    
+    /**
+     * Sets array of all "c" element
+     */
+    void setCArray(int[] cArray);
+    
+    /**
+     * Sets ith "c" element
+     */
+    void setCArray(int i, int c);
+    
+    /**
+     * Sets (as xml) array of all "c" element
+     */
+    void xsetCArray(org.apache.xmlbeans.XmlInt[] cArray);
+    
+    /**
+     * Sets (as xml) ith "c" element
+     */
+    void xsetCArray(int i, org.apache.xmlbeans.XmlInt c);
+    
+    /**
+     * Inserts the value as the ith "c" element
+     */
+    void insertC(int i, int c);
+    
+    /**
+     * Appends the value as the last "c" element
+     */
+    void addC(int c);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "c" element
+     */
+    org.apache.xmlbeans.XmlInt insertNewC(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "c" element
+     */
+    org.apache.xmlbeans.XmlInt addNewC();
+    
+    /**
+     * Removes the ith "c" element
+     */
+    void removeC(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT newInstance() {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.derivation.groupRestriction.Choice2SequenceT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.derivation.groupRestriction.Choice2SequenceT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: All2SeqElt
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.All2SeqEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * A document containing one All2SeqElt(@http://xbean/scomp/derivation/GroupRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class All2SeqEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.All2SeqEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public All2SeqEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ALL2SEQELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/GroupRestriction", "All2SeqElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1323367935:
+                if (name.equals(ALL2SEQELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "All2SeqElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.All2SequenceT getAll2SeqElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.All2SequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.All2SequenceT)get_store().find_element_user(ALL2SEQELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "All2SeqElt" element
+     */
+    public void setAll2SeqElt(xbean.scomp.derivation.groupRestriction.All2SequenceT all2SeqElt)
+    {
+        generatedSetterHelperImpl(all2SeqElt, ALL2SEQELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "All2SeqElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.All2SequenceT addNewAll2SeqElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.All2SequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.All2SequenceT)get_store().add_element_user(ALL2SEQELT$0);
+            return target;
+        }
+    }
+}
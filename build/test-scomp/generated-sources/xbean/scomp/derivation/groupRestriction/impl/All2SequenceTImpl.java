@@ -0,0 +1,24 @@
+/*
+ * XML Type:  All2SequenceT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.All2SequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML All2SequenceT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class All2SequenceTImpl extends xbean.scomp.derivation.groupRestriction.impl.ReplaceableAllTImpl implements xbean.scomp.derivation.groupRestriction.All2SequenceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public All2SequenceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Choice2SeqElt
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.Choice2SeqEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * A document containing one Choice2SeqElt(@http://xbean/scomp/derivation/GroupRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class Choice2SeqEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.Choice2SeqEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Choice2SeqEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHOICE2SEQELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/GroupRestriction", "Choice2SeqElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2006323777:
+                if (name.equals(CHOICE2SEQELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Choice2SeqElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.Choice2SequenceT getChoice2SeqElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.Choice2SequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.Choice2SequenceT)get_store().find_element_user(CHOICE2SEQELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Choice2SeqElt" element
+     */
+    public void setChoice2SeqElt(xbean.scomp.derivation.groupRestriction.Choice2SequenceT choice2SeqElt)
+    {
+        generatedSetterHelperImpl(choice2SeqElt, CHOICE2SEQELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Choice2SeqElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.Choice2SequenceT addNewChoice2SeqElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.Choice2SequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.Choice2SequenceT)get_store().add_element_user(CHOICE2SEQELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * XML Type:  replaceableAllT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.ReplaceableAllT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML replaceableAllT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class ReplaceableAllTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.ReplaceableAllT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ReplaceableAllTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("", "a");
+    private static final javax.xml.namespace.QName B$2 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName C$4 = 
+        new javax.xml.namespace.QName("", "c");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 98:
+                if (name.equals(B$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 99:
+                if (name.equals(C$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "a" element
+     */
+    public java.lang.String getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a" element
+     */
+    public org.apache.xmlbeans.XmlString xgetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a" element
+     */
+    public void setA(java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$0);
+            }
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a" element
+     */
+    public void xsetA(org.apache.xmlbeans.XmlString a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$0);
+            }
+            target.set(a);
+        }
+    }
+    
+    /**
+     * Gets the "b" element
+     */
+    public java.lang.String getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "b" element
+     */
+    public org.apache.xmlbeans.XmlString xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "b" element
+     */
+    public boolean isSetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(B$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "b" element
+     */
+    public void setB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(B$2);
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "b" element
+     */
+    public void xsetB(org.apache.xmlbeans.XmlString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(B$2);
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Unsets the "b" element
+     */
+    public void unsetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(B$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "c" element
+     */
+    public int getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(C$4, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(C$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "c" element
+     */
+    public void setC(int c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(C$4);
+            }
+            target.setIntValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" element
+     */
+    public void xsetC(org.apache.xmlbeans.XmlInt c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(C$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(C$4);
+            }
+            target.set(c);
+        }
+    }
+}
@@ -0,0 +1,691 @@
+/*
+ * XML Type:  replaceableChoiceT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.ReplaceableChoiceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML replaceableChoiceT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class ReplaceableChoiceTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.ReplaceableChoiceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ReplaceableChoiceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("", "a");
+    private static final javax.xml.namespace.QName B$2 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName C$4 = 
+        new javax.xml.namespace.QName("", "c");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 98:
+                if (name.equals(B$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 99:
+                if (name.equals(C$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "a" elements
+     */
+    public java.lang.String[] getAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(A$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "a" element
+     */
+    public java.lang.String getAArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "a" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(A$0, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "a" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "a" element
+     */
+    public int sizeOfAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(A$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "a" element
+     */
+    public void setAArray(java.lang.String[] aArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(aArray, A$0);
+        }
+    }
+    
+    /**
+     * Sets ith "a" element
+     */
+    public void setAArray(int i, java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "a" element
+     */
+    public void xsetAArray(org.apache.xmlbeans.XmlString[]aArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(aArray, A$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "a" element
+     */
+    public void xsetAArray(int i, org.apache.xmlbeans.XmlString a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(a);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "a" element
+     */
+    public void insertA(int i, java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(A$0, i);
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "a" element
+     */
+    public void addA(java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$0);
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(A$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a" element
+     */
+    public org.apache.xmlbeans.XmlString addNewA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "a" element
+     */
+    public void removeA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(A$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "b" elements
+     */
+    public java.lang.String[] getBArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(B$2, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "b" element
+     */
+    public java.lang.String getBArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "b" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetBArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(B$2, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "b" element
+     */
+    public org.apache.xmlbeans.XmlString xgetBArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "b" element
+     */
+    public int sizeOfBArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(B$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "b" element
+     */
+    public void setBArray(java.lang.String[] bArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(bArray, B$2);
+        }
+    }
+    
+    /**
+     * Sets ith "b" element
+     */
+    public void setBArray(int i, java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "b" element
+     */
+    public void xsetBArray(org.apache.xmlbeans.XmlString[]bArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(bArray, B$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "b" element
+     */
+    public void xsetBArray(int i, org.apache.xmlbeans.XmlString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "b" element
+     */
+    public void insertB(int i, java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(B$2, i);
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "b" element
+     */
+    public void addB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(B$2);
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "b" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewB(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(B$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "b" element
+     */
+    public org.apache.xmlbeans.XmlString addNewB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(B$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "b" element
+     */
+    public void removeB(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(B$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "c" elements
+     */
+    public int[] getCArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(C$4, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "c" element
+     */
+    public int getCArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(C$4, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "c" elements
+     */
+    public org.apache.xmlbeans.XmlInt[] xgetCArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(C$4, targetList);
+            org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "c" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetCArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(C$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "c" element
+     */
+    public int sizeOfCArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(C$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "c" element
+     */
+    public void setCArray(int[] cArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(cArray, C$4);
+        }
+    }
+    
+    /**
+     * Sets ith "c" element
+     */
+    public void setCArray(int i, int c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "c" element
+     */
+    public void xsetCArray(org.apache.xmlbeans.XmlInt[]cArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(cArray, C$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "c" element
+     */
+    public void xsetCArray(int i, org.apache.xmlbeans.XmlInt c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(C$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "c" element
+     */
+    public void insertC(int i, int c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(C$4, i);
+            target.setIntValue(c);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "c" element
+     */
+    public void addC(int c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(C$4);
+            target.setIntValue(c);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "c" element
+     */
+    public org.apache.xmlbeans.XmlInt insertNewC(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(C$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "c" element
+     */
+    public org.apache.xmlbeans.XmlInt addNewC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(C$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "c" element
+     */
+    public void removeC(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(C$4, i);
+        }
+    }
+}
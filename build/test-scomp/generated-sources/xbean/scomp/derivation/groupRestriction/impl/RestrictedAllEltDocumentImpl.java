@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: RestrictedAllElt
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedAllEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * A document containing one RestrictedAllElt(@http://xbean/scomp/derivation/GroupRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class RestrictedAllEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.RestrictedAllEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedAllEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESTRICTEDALLELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/GroupRestriction", "RestrictedAllElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2138140583:
+                if (name.equals(RESTRICTEDALLELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "RestrictedAllElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedAllT getRestrictedAllElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedAllT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedAllT)get_store().find_element_user(RESTRICTEDALLELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RestrictedAllElt" element
+     */
+    public void setRestrictedAllElt(xbean.scomp.derivation.groupRestriction.RestrictedAllT restrictedAllElt)
+    {
+        generatedSetterHelperImpl(restrictedAllElt, RESTRICTEDALLELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "RestrictedAllElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedAllT addNewRestrictedAllElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedAllT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedAllT)get_store().add_element_user(RESTRICTEDALLELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restrictedAllT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedAllT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML restrictedAllT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class RestrictedAllTImpl extends xbean.scomp.contentType.modelGroup.impl.AllTImpl implements xbean.scomp.derivation.groupRestriction.RestrictedAllT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedAllTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: RestrictedChoiceElt
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedChoiceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * A document containing one RestrictedChoiceElt(@http://xbean/scomp/derivation/GroupRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class RestrictedChoiceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.RestrictedChoiceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedChoiceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESTRICTEDCHOICEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/GroupRestriction", "RestrictedChoiceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 374397201:
+                if (name.equals(RESTRICTEDCHOICEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "RestrictedChoiceElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedChoiceT getRestrictedChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedChoiceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedChoiceT)get_store().find_element_user(RESTRICTEDCHOICEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RestrictedChoiceElt" element
+     */
+    public void setRestrictedChoiceElt(xbean.scomp.derivation.groupRestriction.RestrictedChoiceT restrictedChoiceElt)
+    {
+        generatedSetterHelperImpl(restrictedChoiceElt, RESTRICTEDCHOICEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "RestrictedChoiceElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedChoiceT addNewRestrictedChoiceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedChoiceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedChoiceT)get_store().add_element_user(RESTRICTEDCHOICEELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * XML Type:  restrictedChoiceT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedChoiceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML restrictedChoiceT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class RestrictedChoiceTImpl extends xbean.scomp.contentType.modelGroup.impl.ChoiceTImpl implements xbean.scomp.derivation.groupRestriction.RestrictedChoiceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedChoiceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILD3$0 = 
+        new javax.xml.namespace.QName("", "child3");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1361400169:
+                if (name.equals(CHILD3$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "child3" elements
+     */
+    public java.math.BigInteger[] getChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD3$0, targetList);
+            java.math.BigInteger[] result = new java.math.BigInteger[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getBigIntegerValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "child3" element
+     */
+    public java.math.BigInteger getChild3Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "child3" elements
+     */
+    public org.apache.xmlbeans.XmlInteger[] xgetChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CHILD3$0, targetList);
+            org.apache.xmlbeans.XmlInteger[] result = new org.apache.xmlbeans.XmlInteger[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetChild3Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "child3" element
+     */
+    public int sizeOfChild3Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CHILD3$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "child3" element
+     */
+    public void setChild3Array(java.math.BigInteger[] child3Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child3Array, CHILD3$0);
+        }
+    }
+    
+    /**
+     * Sets ith "child3" element
+     */
+    public void setChild3Array(int i, java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CHILD3$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "child3" element
+     */
+    public void xsetChild3Array(org.apache.xmlbeans.XmlInteger[]child3Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(child3Array, CHILD3$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "child3" element
+     */
+    public void xsetChild3Array(int i, org.apache.xmlbeans.XmlInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(CHILD3$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(child3);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "child3" element
+     */
+    public void insertChild3(int i, java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(CHILD3$0, i);
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "child3" element
+     */
+    public void addChild3(java.math.BigInteger child3)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CHILD3$0);
+            target.setBigIntegerValue(child3);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger insertNewChild3(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().insert_element_user(CHILD3$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "child3" element
+     */
+    public org.apache.xmlbeans.XmlInteger addNewChild3()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(CHILD3$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "child3" element
+     */
+    public void removeChild3(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CHILD3$0, i);
+        }
+    }
+}
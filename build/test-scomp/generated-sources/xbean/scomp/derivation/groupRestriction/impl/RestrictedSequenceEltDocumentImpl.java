@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: RestrictedSequenceElt
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedSequenceEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * A document containing one RestrictedSequenceElt(@http://xbean/scomp/derivation/GroupRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class RestrictedSequenceEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.groupRestriction.RestrictedSequenceEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedSequenceEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESTRICTEDSEQUENCEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/GroupRestriction", "RestrictedSequenceElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1194349135:
+                if (name.equals(RESTRICTEDSEQUENCEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "RestrictedSequenceElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedSequenceT getRestrictedSequenceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedSequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedSequenceT)get_store().find_element_user(RESTRICTEDSEQUENCEELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RestrictedSequenceElt" element
+     */
+    public void setRestrictedSequenceElt(xbean.scomp.derivation.groupRestriction.RestrictedSequenceT restrictedSequenceElt)
+    {
+        generatedSetterHelperImpl(restrictedSequenceElt, RESTRICTEDSEQUENCEELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "RestrictedSequenceElt" element
+     */
+    public xbean.scomp.derivation.groupRestriction.RestrictedSequenceT addNewRestrictedSequenceElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.groupRestriction.RestrictedSequenceT target = null;
+            target = (xbean.scomp.derivation.groupRestriction.RestrictedSequenceT)get_store().add_element_user(RESTRICTEDSEQUENCEELT$0);
+            return target;
+        }
+    }
+}
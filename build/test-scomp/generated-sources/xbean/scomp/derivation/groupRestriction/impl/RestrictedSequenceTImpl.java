@@ -0,0 +1,24 @@
+/*
+ * XML Type:  restrictedSequenceT
+ * Namespace: http://xbean/scomp/derivation/GroupRestriction
+ * Java type: xbean.scomp.derivation.groupRestriction.RestrictedSequenceT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.groupRestriction.impl;
+/**
+ * An XML restrictedSequenceT(@http://xbean/scomp/derivation/GroupRestriction).
+ *
+ * This is a complex type.
+ */
+public class RestrictedSequenceTImpl extends xbean.scomp.contentType.modelGroup.impl.SequenceTImpl implements xbean.scomp.derivation.groupRestriction.RestrictedSequenceT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RestrictedSequenceTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
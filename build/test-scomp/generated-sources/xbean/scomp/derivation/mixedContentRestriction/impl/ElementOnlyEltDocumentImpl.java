@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ElementOnlyElt
+ * Namespace: http://xbean/scomp/derivation/MixedContentRestriction
+ * Java type: xbean.scomp.derivation.mixedContentRestriction.ElementOnlyEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.mixedContentRestriction.impl;
+/**
+ * A document containing one ElementOnlyElt(@http://xbean/scomp/derivation/MixedContentRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class ElementOnlyEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.mixedContentRestriction.ElementOnlyEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementOnlyEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMENTONLYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/MixedContentRestriction", "ElementOnlyElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 735671013:
+                if (name.equals(ELEMENTONLYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ElementOnlyElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT getElementOnlyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT)get_store().find_element_user(ELEMENTONLYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ElementOnlyElt" element
+     */
+    public void setElementOnlyElt(xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT elementOnlyElt)
+    {
+        generatedSetterHelperImpl(elementOnlyElt, ELEMENTONLYELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ElementOnlyElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT addNewElementOnlyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.RestrictedEltT)get_store().add_element_user(ELEMENTONLYELT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Mixed2EmptyElt
+ * Namespace: http://xbean/scomp/derivation/MixedContentRestriction
+ * Java type: xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.mixedContentRestriction.impl;
+/**
+ * A document containing one Mixed2EmptyElt(@http://xbean/scomp/derivation/MixedContentRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class Mixed2EmptyEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Mixed2EmptyEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXED2EMPTYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/MixedContentRestriction", "Mixed2EmptyElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -898430729:
+                if (name.equals(MIXED2EMPTYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Mixed2EmptyElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT getMixed2EmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT)get_store().find_element_user(MIXED2EMPTYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Mixed2EmptyElt" element
+     */
+    public void setMixed2EmptyElt(xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT mixed2EmptyElt)
+    {
+        generatedSetterHelperImpl(mixed2EmptyElt, MIXED2EMPTYELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Mixed2EmptyElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT addNewMixed2EmptyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT)get_store().add_element_user(MIXED2EMPTYELT$0);
+            return target;
+        }
+    }
+}
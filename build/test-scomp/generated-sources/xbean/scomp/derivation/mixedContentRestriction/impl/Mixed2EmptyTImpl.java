@@ -0,0 +1,24 @@
+/*
+ * XML Type:  mixed2EmptyT
+ * Namespace: http://xbean/scomp/derivation/MixedContentRestriction
+ * Java type: xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.mixedContentRestriction.impl;
+/**
+ * An XML mixed2EmptyT(@http://xbean/scomp/derivation/MixedContentRestriction).
+ *
+ * This is a complex type.
+ */
+public class Mixed2EmptyTImpl extends xbean.scomp.derivation.mixedContentRestriction.impl.BaseMixedTImpl implements xbean.scomp.derivation.mixedContentRestriction.Mixed2EmptyT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Mixed2EmptyTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: MixedElt
+ * Namespace: http://xbean/scomp/derivation/MixedContentRestriction
+ * Java type: xbean.scomp.derivation.mixedContentRestriction.MixedEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.mixedContentRestriction.impl;
+/**
+ * A document containing one MixedElt(@http://xbean/scomp/derivation/MixedContentRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class MixedEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.mixedContentRestriction.MixedEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXEDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/MixedContentRestriction", "MixedElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1012129070:
+                if (name.equals(MIXEDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MixedElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT getMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT)get_store().find_element_user(MIXEDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MixedElt" element
+     */
+    public void setMixedElt(xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT mixedElt)
+    {
+        generatedSetterHelperImpl(mixedElt, MIXEDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MixedElt" element
+     */
+    public xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT addNewMixedElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT target = null;
+            target = (xbean.scomp.derivation.mixedContentRestriction.RestrictedMixedT)get_store().add_element_user(MIXEDELT$0);
+            return target;
+        }
+    }
+}
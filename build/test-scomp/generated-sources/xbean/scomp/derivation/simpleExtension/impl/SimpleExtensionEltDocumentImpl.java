@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SimpleExtensionElt
+ * Namespace: http://xbean/scomp/derivation/SimpleExtension
+ * Java type: xbean.scomp.derivation.simpleExtension.SimpleExtensionEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.simpleExtension.impl;
+/**
+ * A document containing one SimpleExtensionElt(@http://xbean/scomp/derivation/SimpleExtension) element.
+ *
+ * This is a complex type.
+ */
+public class SimpleExtensionEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.simpleExtension.SimpleExtensionEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleExtensionEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLEEXTENSIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/SimpleExtension", "SimpleExtensionElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1118085408:
+                if (name.equals(SIMPLEEXTENSIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SimpleExtensionElt" element
+     */
+    public xbean.scomp.derivation.simpleExtension.SimpleExtensionT getSimpleExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleExtension.SimpleExtensionT target = null;
+            target = (xbean.scomp.derivation.simpleExtension.SimpleExtensionT)get_store().find_element_user(SIMPLEEXTENSIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SimpleExtensionElt" element
+     */
+    public void setSimpleExtensionElt(xbean.scomp.derivation.simpleExtension.SimpleExtensionT simpleExtensionElt)
+    {
+        generatedSetterHelperImpl(simpleExtensionElt, SIMPLEEXTENSIONELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SimpleExtensionElt" element
+     */
+    public xbean.scomp.derivation.simpleExtension.SimpleExtensionT addNewSimpleExtensionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleExtension.SimpleExtensionT target = null;
+            target = (xbean.scomp.derivation.simpleExtension.SimpleExtensionT)get_store().add_element_user(SIMPLEEXTENSIONELT$0);
+            return target;
+        }
+    }
+}
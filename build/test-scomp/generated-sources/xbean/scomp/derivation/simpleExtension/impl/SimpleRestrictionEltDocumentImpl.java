@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: SimpleRestrictionElt
+ * Namespace: http://xbean/scomp/derivation/SimpleExtension
+ * Java type: xbean.scomp.derivation.simpleExtension.SimpleRestrictionEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.simpleExtension.impl;
+/**
+ * A document containing one SimpleRestrictionElt(@http://xbean/scomp/derivation/SimpleExtension) element.
+ *
+ * This is a complex type.
+ */
+public class SimpleRestrictionEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.simpleExtension.SimpleRestrictionEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleRestrictionEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLERESTRICTIONELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/SimpleExtension", "SimpleRestrictionElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -474534989:
+                if (name.equals(SIMPLERESTRICTIONELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SimpleRestrictionElt" element
+     */
+    public xbean.scomp.derivation.simpleExtension.SimpleRestrictionT getSimpleRestrictionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleExtension.SimpleRestrictionT target = null;
+            target = (xbean.scomp.derivation.simpleExtension.SimpleRestrictionT)get_store().find_element_user(SIMPLERESTRICTIONELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SimpleRestrictionElt" element
+     */
+    public void setSimpleRestrictionElt(xbean.scomp.derivation.simpleExtension.SimpleRestrictionT simpleRestrictionElt)
+    {
+        generatedSetterHelperImpl(simpleRestrictionElt, SIMPLERESTRICTIONELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "SimpleRestrictionElt" element
+     */
+    public xbean.scomp.derivation.simpleExtension.SimpleRestrictionT addNewSimpleRestrictionElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleExtension.SimpleRestrictionT target = null;
+            target = (xbean.scomp.derivation.simpleExtension.SimpleRestrictionT)get_store().add_element_user(SIMPLERESTRICTIONELT$0);
+            return target;
+        }
+    }
+}
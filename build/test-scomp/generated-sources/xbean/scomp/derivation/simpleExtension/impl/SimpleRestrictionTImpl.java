@@ -0,0 +1,123 @@
+/*
+ * XML Type:  SimpleRestrictionT
+ * Namespace: http://xbean/scomp/derivation/SimpleExtension
+ * Java type: xbean.scomp.derivation.simpleExtension.SimpleRestrictionT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.simpleExtension.impl;
+/**
+ * An XML SimpleRestrictionT(@http://xbean/scomp/derivation/SimpleExtension).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.simpleExtension.SimpleRestrictionT.
+ */
+public class SimpleRestrictionTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.simpleExtension.SimpleRestrictionT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleRestrictionTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected SimpleRestrictionTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("", "attribute");
+    
+    
+    /**
+     * Gets the "attribute" attribute
+     */
+    public java.lang.String getAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTRIBUTE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attribute" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(ATTRIBUTE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attribute" attribute
+     */
+    public boolean isSetAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTRIBUTE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attribute" attribute
+     */
+    public void setAttribute(java.lang.String attribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTRIBUTE$0);
+            }
+            target.setStringValue(attribute);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attribute" attribute
+     */
+    public void xsetAttribute(org.apache.xmlbeans.XmlToken attribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(ATTRIBUTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(ATTRIBUTE$0);
+            }
+            target.set(attribute);
+        }
+    }
+    
+    /**
+     * Unsets the "attribute" attribute
+     */
+    public void unsetAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTRIBUTE$0);
+        }
+    }
+}
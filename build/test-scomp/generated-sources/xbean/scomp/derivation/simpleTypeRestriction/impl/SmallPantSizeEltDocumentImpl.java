@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: SmallPantSizeElt
+ * Namespace: http://xbean/scomp/derivation/SimpleTypeRestriction
+ * Java type: xbean.scomp.derivation.simpleTypeRestriction.SmallPantSizeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.simpleTypeRestriction.impl;
+/**
+ * A document containing one SmallPantSizeElt(@http://xbean/scomp/derivation/SimpleTypeRestriction) element.
+ *
+ * This is a complex type.
+ */
+public class SmallPantSizeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.simpleTypeRestriction.SmallPantSizeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SmallPantSizeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SMALLPANTSIZEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/SimpleTypeRestriction", "SmallPantSizeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1754459634:
+                if (name.equals(SMALLPANTSIZEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SmallPantSizeElt" element
+     */
+    public int getSmallPantSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(SMALLPANTSIZEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SMALLPANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SmallPantSizeElt" element
+     */
+    public xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize xgetSmallPantSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize target = null;
+            target = (xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize)get_store().find_element_user(SMALLPANTSIZEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SmallPantSizeElt" element
+     */
+    public void setSmallPantSizeElt(int smallPantSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SMALLPANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SMALLPANTSIZEELT$0);
+            }
+            target.setIntValue(smallPantSizeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SmallPantSizeElt" element
+     */
+    public void xsetSmallPantSizeElt(xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize smallPantSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize target = null;
+            target = (xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize)get_store().find_element_user(SMALLPANTSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize)get_store().add_element_user(SMALLPANTSIZEELT$0);
+            }
+            target.set(smallPantSizeElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  SmallPantSize
+ * Namespace: http://xbean/scomp/derivation/SimpleTypeRestriction
+ * Java type: xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.simpleTypeRestriction.impl;
+/**
+ * An XML SmallPantSize(@http://xbean/scomp/derivation/SimpleTypeRestriction).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize.
+ */
+public class SmallPantSizeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.derivation.simpleTypeRestriction.SmallPantSize
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SmallPantSizeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SmallPantSizeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltAbstract
+ * Namespace: http://xbean/scomp/derivation/Abstract
+ * Java type: xbean.scomp.derivation.xabstract.EltAbstractDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.xabstract.impl;
+/**
+ * A document containing one EltAbstract(@http://xbean/scomp/derivation/Abstract) element.
+ *
+ * This is a complex type.
+ */
+public class EltAbstractDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.xabstract.EltAbstractDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltAbstractDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTABSTRACT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Abstract", "EltAbstract");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -892958769:
+                if (name.equals(ELTABSTRACT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltAbstract" element
+     */
+    public xbean.scomp.derivation.xabstract.AbstractT getEltAbstract()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.xabstract.AbstractT target = null;
+            target = (xbean.scomp.derivation.xabstract.AbstractT)get_store().find_element_user(ELTABSTRACT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltAbstract" element
+     */
+    public void setEltAbstract(xbean.scomp.derivation.xabstract.AbstractT eltAbstract)
+    {
+        generatedSetterHelperImpl(eltAbstract, ELTABSTRACT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltAbstract" element
+     */
+    public xbean.scomp.derivation.xabstract.AbstractT addNewEltAbstract()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.xabstract.AbstractT target = null;
+            target = (xbean.scomp.derivation.xabstract.AbstractT)get_store().add_element_user(ELTABSTRACT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltConcrete
+ * Namespace: http://xbean/scomp/derivation/Abstract
+ * Java type: xbean.scomp.derivation.xabstract.EltConcreteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.derivation.xabstract.impl;
+/**
+ * A document containing one EltConcrete(@http://xbean/scomp/derivation/Abstract) element.
+ *
+ * This is a complex type.
+ */
+public class EltConcreteDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.derivation.xabstract.EltConcreteDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltConcreteDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTCONCRETE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/derivation/Abstract", "EltConcrete");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1086466610:
+                if (name.equals(ELTCONCRETE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltConcrete" element
+     */
+    public xbean.scomp.derivation.xabstract.AbstractImplT getEltConcrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.xabstract.AbstractImplT target = null;
+            target = (xbean.scomp.derivation.xabstract.AbstractImplT)get_store().find_element_user(ELTCONCRETE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltConcrete" element
+     */
+    public void setEltConcrete(xbean.scomp.derivation.xabstract.AbstractImplT eltConcrete)
+    {
+        generatedSetterHelperImpl(eltConcrete, ELTCONCRETE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltConcrete" element
+     */
+    public xbean.scomp.derivation.xabstract.AbstractImplT addNewEltConcrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.derivation.xabstract.AbstractImplT target = null;
+            target = (xbean.scomp.derivation.xabstract.AbstractImplT)get_store().add_element_user(ELTCONCRETE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnyElt
+ * Namespace: http://xbean/scomp/element/Any
+ * Java type: xbean.scomp.element.any.AnyEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.any.impl;
+/**
+ * A document containing one AnyElt(@http://xbean/scomp/element/Any) element.
+ *
+ * This is a complex type.
+ */
+public class AnyEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.any.AnyEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/Any", "AnyElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1966156609:
+                if (name.equals(ANYELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyElt" element
+     */
+    public org.apache.xmlbeans.XmlObject getAnyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(ANYELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyElt" element
+     */
+    public void setAnyElt(org.apache.xmlbeans.XmlObject anyElt)
+    {
+        generatedSetterHelperImpl(anyElt, ANYELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyElt" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewAnyElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(ANYELT$0);
+            return target;
+        }
+    }
+}
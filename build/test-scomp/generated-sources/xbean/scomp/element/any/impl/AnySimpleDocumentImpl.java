@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnySimple
+ * Namespace: http://xbean/scomp/element/Any
+ * Java type: xbean.scomp.element.any.AnySimpleDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.any.impl;
+/**
+ * A document containing one AnySimple(@http://xbean/scomp/element/Any) element.
+ *
+ * This is a complex type.
+ */
+public class AnySimpleDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.any.AnySimpleDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnySimpleDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYSIMPLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/Any", "AnySimple");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -594504034:
+                if (name.equals(ANYSIMPLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnySimple" element
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getAnySimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_element_user(ANYSIMPLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnySimple" element
+     */
+    public void setAnySimple(org.apache.xmlbeans.XmlAnySimpleType anySimple)
+    {
+        generatedSetterHelperImpl(anySimple, ANYSIMPLE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnySimple" element
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewAnySimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_element_user(ANYSIMPLE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltDefaultStr
+ * Namespace: http://xbean/scomp/element/GlobalEltDefault
+ * Java type: xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltDefault;
+
+
+/**
+ * A document containing one GlobalEltDefaultStr(@http://xbean/scomp/element/GlobalEltDefault) element.
+ *
+ * This is a complex type.
+ */
+public interface GlobalEltDefaultStrDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GlobalEltDefaultStrDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("globaleltdefaultstr79d1doctype");
+    
+    /**
+     * Gets the "GlobalEltDefaultStr" element
+     */
+    java.lang.String getGlobalEltDefaultStr();
+    
+    /**
+     * Gets (as xml) the "GlobalEltDefaultStr" element
+     */
+    org.apache.xmlbeans.XmlString xgetGlobalEltDefaultStr();
+    
+    /**
+     * Sets the "GlobalEltDefaultStr" element
+     */
+    void setGlobalEltDefaultStr(java.lang.String globalEltDefaultStr);
+    
+    /**
+     * Sets (as xml) the "GlobalEltDefaultStr" element
+     */
+    void xsetGlobalEltDefaultStr(org.apache.xmlbeans.XmlString globalEltDefaultStr);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument newInstance() {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * An XML document type.
+ * Localname: IDElement
+ * Namespace: http://xbean/scomp/element/GlobalEltDefault
+ * Java type: xbean.scomp.element.globalEltDefault.IDElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltDefault;
+
+
+/**
+ * A document containing one IDElement(@http://xbean/scomp/element/GlobalEltDefault) element.
+ *
+ * This is a complex type.
+ */
+public interface IDElementDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(IDElementDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("idelement87b8doctype");
+    
+    /**
+     * Gets the "IDElement" element
+     */
+    xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement getIDElement();
+    
+    /**
+     * Sets the "IDElement" element
+     */
+    void setIDElement(xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement idElement);
+    
+    /**
+     * Appends and returns a new empty "IDElement" element
+     */
+    xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement addNewIDElement();
+    
+    /**
+     * An XML IDElement(@http://xbean/scomp/element/GlobalEltDefault).
+     *
+     * This is a complex type.
+     */
+    public interface IDElement extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(IDElement.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("idelement2885elemtype");
+        
+        /**
+         * Gets the "ID" attribute
+         */
+        java.lang.String getID();
+        
+        /**
+         * Gets (as xml) the "ID" attribute
+         */
+        org.apache.xmlbeans.XmlID xgetID();
+        
+        /**
+         * True if has "ID" attribute
+         */
+        boolean isSetID();
+        
+        /**
+         * Sets the "ID" attribute
+         */
+        void setID(java.lang.String id);
+        
+        /**
+         * Sets (as xml) the "ID" attribute
+         */
+        void xsetID(org.apache.xmlbeans.XmlID id);
+        
+        /**
+         * Unsets the "ID" attribute
+         */
+        void unsetID();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement newInstance() {
+              return (xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument newInstance() {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.globalEltDefault.IDElementDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.globalEltDefault.IDElementDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
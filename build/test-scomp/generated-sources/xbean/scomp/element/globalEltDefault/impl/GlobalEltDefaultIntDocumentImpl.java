@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltDefaultInt
+ * Namespace: http://xbean/scomp/element/GlobalEltDefault
+ * Java type: xbean.scomp.element.globalEltDefault.GlobalEltDefaultIntDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltDefault.impl;
+/**
+ * A document containing one GlobalEltDefaultInt(@http://xbean/scomp/element/GlobalEltDefault) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltDefaultIntDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltDefault.GlobalEltDefaultIntDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltDefaultIntDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTDEFAULTINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltDefault", "GlobalEltDefaultInt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1076329336:
+                if (name.equals(GLOBALELTDEFAULTINT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltDefaultInt" element
+     */
+    public int getGlobalEltDefaultInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(GLOBALELTDEFAULTINT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULTINT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltDefaultInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetGlobalEltDefaultInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTDEFAULTINT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltDefaultInt" element
+     */
+    public void setGlobalEltDefaultInt(int globalEltDefaultInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULTINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTDEFAULTINT$0);
+            }
+            target.setIntValue(globalEltDefaultInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltDefaultInt" element
+     */
+    public void xsetGlobalEltDefaultInt(org.apache.xmlbeans.XmlInt globalEltDefaultInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTDEFAULTINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTDEFAULTINT$0);
+            }
+            target.set(globalEltDefaultInt);
+        }
+    }
+}
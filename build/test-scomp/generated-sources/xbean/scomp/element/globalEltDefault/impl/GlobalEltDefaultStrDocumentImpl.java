@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltDefaultStr
+ * Namespace: http://xbean/scomp/element/GlobalEltDefault
+ * Java type: xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltDefault.impl;
+/**
+ * A document containing one GlobalEltDefaultStr(@http://xbean/scomp/element/GlobalEltDefault) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltDefaultStrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltDefault.GlobalEltDefaultStrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltDefaultStrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTDEFAULTSTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltDefault", "GlobalEltDefaultStr");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1076339130:
+                if (name.equals(GLOBALELTDEFAULTSTR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltDefaultStr" element
+     */
+    public java.lang.String getGlobalEltDefaultStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULTSTR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltDefaultStr" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltDefaultStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTDEFAULTSTR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltDefaultStr" element
+     */
+    public void setGlobalEltDefaultStr(java.lang.String globalEltDefaultStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULTSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTDEFAULTSTR$0);
+            }
+            target.setStringValue(globalEltDefaultStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltDefaultStr" element
+     */
+    public void xsetGlobalEltDefaultStr(org.apache.xmlbeans.XmlString globalEltDefaultStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTDEFAULTSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTDEFAULTSTR$0);
+            }
+            target.set(globalEltDefaultStr);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * An XML document type.
+ * Localname: IDElement
+ * Namespace: http://xbean/scomp/element/GlobalEltDefault
+ * Java type: xbean.scomp.element.globalEltDefault.IDElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltDefault.impl;
+/**
+ * A document containing one IDElement(@http://xbean/scomp/element/GlobalEltDefault) element.
+ *
+ * This is a complex type.
+ */
+public class IDElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltDefault.IDElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IDElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName IDELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltDefault", "IDElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -546354847:
+                if (name.equals(IDELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "IDElement" element
+     */
+    public xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement getIDElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement target = null;
+            target = (xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement)get_store().find_element_user(IDELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "IDElement" element
+     */
+    public void setIDElement(xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement idElement)
+    {
+        generatedSetterHelperImpl(idElement, IDELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "IDElement" element
+     */
+    public xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement addNewIDElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement target = null;
+            target = (xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement)get_store().add_element_user(IDELEMENT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML IDElement(@http://xbean/scomp/element/GlobalEltDefault).
+     *
+     * This is a complex type.
+     */
+    public static class IDElementImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltDefault.IDElementDocument.IDElement
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public IDElementImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ID$0 = 
+            new javax.xml.namespace.QName("", "ID");
+        
+        
+        /**
+         * Gets the "ID" attribute
+         */
+        public java.lang.String getID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ID" attribute
+         */
+        public org.apache.xmlbeans.XmlID xgetID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlID target = null;
+                target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ID" attribute
+         */
+        public boolean isSetID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ID$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "ID" attribute
+         */
+        public void setID(java.lang.String id)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$0);
+                }
+                target.setStringValue(id);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ID" attribute
+         */
+        public void xsetID(org.apache.xmlbeans.XmlID id)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlID target = null;
+                target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID$0);
+                }
+                target.set(id);
+            }
+        }
+        
+        /**
+         * Unsets the "ID" attribute
+         */
+        public void unsetID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ID$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltFixedInt
+ * Namespace: http://xbean/scomp/element/GlobalEltFixed
+ * Java type: xbean.scomp.element.globalEltFixed.GlobalEltFixedIntDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltFixed.impl;
+/**
+ * A document containing one GlobalEltFixedInt(@http://xbean/scomp/element/GlobalEltFixed) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltFixedIntDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltFixed.GlobalEltFixedIntDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltFixedIntDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTFIXEDINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltFixed", "GlobalEltFixedInt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -529673243:
+                if (name.equals(GLOBALELTFIXEDINT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltFixedInt" element
+     */
+    public int getGlobalEltFixedInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(GLOBALELTFIXEDINT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXEDINT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltFixedInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetGlobalEltFixedInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTFIXEDINT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltFixedInt" element
+     */
+    public void setGlobalEltFixedInt(int globalEltFixedInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXEDINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTFIXEDINT$0);
+            }
+            target.setIntValue(globalEltFixedInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltFixedInt" element
+     */
+    public void xsetGlobalEltFixedInt(org.apache.xmlbeans.XmlInt globalEltFixedInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTFIXEDINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTFIXEDINT$0);
+            }
+            target.set(globalEltFixedInt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltFixedStr
+ * Namespace: http://xbean/scomp/element/GlobalEltFixed
+ * Java type: xbean.scomp.element.globalEltFixed.GlobalEltFixedStrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltFixed.impl;
+/**
+ * A document containing one GlobalEltFixedStr(@http://xbean/scomp/element/GlobalEltFixed) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltFixedStrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltFixed.GlobalEltFixedStrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltFixedStrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTFIXEDSTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltFixed", "GlobalEltFixedStr");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -529663449:
+                if (name.equals(GLOBALELTFIXEDSTR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltFixedStr" element
+     */
+    public java.lang.String getGlobalEltFixedStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXEDSTR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltFixedStr" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltFixedStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTFIXEDSTR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltFixedStr" element
+     */
+    public void setGlobalEltFixedStr(java.lang.String globalEltFixedStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXEDSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTFIXEDSTR$0);
+            }
+            target.setStringValue(globalEltFixedStr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltFixedStr" element
+     */
+    public void xsetGlobalEltFixedStr(org.apache.xmlbeans.XmlString globalEltFixedStr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTFIXEDSTR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTFIXEDSTR$0);
+            }
+            target.set(globalEltFixedStr);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltComplex
+ * Namespace: http://xbean/scomp/element/GlobalEltNillable
+ * Java type: xbean.scomp.element.globalEltNillable.GlobalEltComplexDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltNillable.impl;
+/**
+ * A document containing one GlobalEltComplex(@http://xbean/scomp/element/GlobalEltNillable) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltComplexDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltNillable.GlobalEltComplexDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltComplexDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTCOMPLEX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltNillable", "GlobalEltComplex");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2102002842:
+                if (name.equals(GLOBALELTCOMPLEX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltComplex" element
+     */
+    public xbean.scomp.element.globalEltNillable.GlobalEltNillableT getGlobalEltComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltNillable.GlobalEltNillableT target = null;
+            target = (xbean.scomp.element.globalEltNillable.GlobalEltNillableT)get_store().find_element_user(GLOBALELTCOMPLEX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "GlobalEltComplex" element
+     */
+    public boolean isNilGlobalEltComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltNillable.GlobalEltNillableT target = null;
+            target = (xbean.scomp.element.globalEltNillable.GlobalEltNillableT)get_store().find_element_user(GLOBALELTCOMPLEX$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltComplex" element
+     */
+    public void setGlobalEltComplex(xbean.scomp.element.globalEltNillable.GlobalEltNillableT globalEltComplex)
+    {
+        generatedSetterHelperImpl(globalEltComplex, GLOBALELTCOMPLEX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GlobalEltComplex" element
+     */
+    public xbean.scomp.element.globalEltNillable.GlobalEltNillableT addNewGlobalEltComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltNillable.GlobalEltNillableT target = null;
+            target = (xbean.scomp.element.globalEltNillable.GlobalEltNillableT)get_store().add_element_user(GLOBALELTCOMPLEX$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Nils the "GlobalEltComplex" element
+     */
+    public void setNilGlobalEltComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.globalEltNillable.GlobalEltNillableT target = null;
+            target = (xbean.scomp.element.globalEltNillable.GlobalEltNillableT)get_store().find_element_user(GLOBALELTCOMPLEX$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.element.globalEltNillable.GlobalEltNillableT)get_store().add_element_user(GLOBALELTCOMPLEX$0);
+            }
+            target.setNil();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltNillableDefault
+ * Namespace: http://xbean/scomp/element/GlobalEltNillable
+ * Java type: xbean.scomp.element.globalEltNillable.GlobalEltNillableDefaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltNillable.impl;
+/**
+ * A document containing one GlobalEltNillableDefault(@http://xbean/scomp/element/GlobalEltNillable) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltNillableDefaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltNillable.GlobalEltNillableDefaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltNillableDefaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNILLABLEDEFAULT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltNillable", "GlobalEltNillableDefault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 855530722:
+                if (name.equals(GLOBALELTNILLABLEDEFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNillableDefault" element
+     */
+    public int getGlobalEltNillableDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(GLOBALELTNILLABLEDEFAULT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNillableDefault" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetGlobalEltNillableDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "GlobalEltNillableDefault" element
+     */
+    public boolean isNilGlobalEltNillableDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNillableDefault" element
+     */
+    public void setGlobalEltNillableDefault(int globalEltNillableDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNILLABLEDEFAULT$0);
+            }
+            target.setIntValue(globalEltNillableDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNillableDefault" element
+     */
+    public void xsetGlobalEltNillableDefault(org.apache.xmlbeans.XmlInt globalEltNillableDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTNILLABLEDEFAULT$0);
+            }
+            target.set(globalEltNillableDefault);
+        }
+    }
+    
+    /**
+     * Nils the "GlobalEltNillableDefault" element
+     */
+    public void setNilGlobalEltNillableDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTNILLABLEDEFAULT$0);
+            }
+            target.setNil();
+        }
+    }
+}
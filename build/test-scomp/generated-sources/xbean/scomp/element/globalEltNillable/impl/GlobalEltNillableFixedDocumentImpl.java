@@ -0,0 +1,142 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltNillableFixed
+ * Namespace: http://xbean/scomp/element/GlobalEltNillable
+ * Java type: xbean.scomp.element.globalEltNillable.GlobalEltNillableFixedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltNillable.impl;
+/**
+ * A document containing one GlobalEltNillableFixed(@http://xbean/scomp/element/GlobalEltNillable) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltNillableFixedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltNillable.GlobalEltNillableFixedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltNillableFixedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNILLABLEFIXED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltNillable", "GlobalEltNillableFixed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 20750933:
+                if (name.equals(GLOBALELTNILLABLEFIXED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNillableFixed" element
+     */
+    public java.lang.String getGlobalEltNillableFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNillableFixed" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltNillableFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "GlobalEltNillableFixed" element
+     */
+    public boolean isNilGlobalEltNillableFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNillableFixed" element
+     */
+    public void setGlobalEltNillableFixed(java.lang.String globalEltNillableFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNILLABLEFIXED$0);
+            }
+            target.setStringValue(globalEltNillableFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNillableFixed" element
+     */
+    public void xsetGlobalEltNillableFixed(org.apache.xmlbeans.XmlString globalEltNillableFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNILLABLEFIXED$0);
+            }
+            target.set(globalEltNillableFixed);
+        }
+    }
+    
+    /**
+     * Nils the "GlobalEltNillableFixed" element
+     */
+    public void setNilGlobalEltNillableFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLEFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNILLABLEFIXED$0);
+            }
+            target.setNil();
+        }
+    }
+}
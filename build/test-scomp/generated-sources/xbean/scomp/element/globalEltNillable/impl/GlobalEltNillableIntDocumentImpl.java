@@ -0,0 +1,154 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltNillableInt
+ * Namespace: http://xbean/scomp/element/GlobalEltNillable
+ * Java type: xbean.scomp.element.globalEltNillable.GlobalEltNillableIntDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.globalEltNillable.impl;
+/**
+ * A document containing one GlobalEltNillableInt(@http://xbean/scomp/element/GlobalEltNillable) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltNillableIntDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.globalEltNillable.GlobalEltNillableIntDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltNillableIntDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNILLABLEINT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/GlobalEltNillable", "GlobalEltNillableInt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 598906640:
+                if (name.equals(GLOBALELTNILLABLEINT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNillableInt" element
+     */
+    public int getGlobalEltNillableInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(GLOBALELTNILLABLEINT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNillableInt" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetGlobalEltNillableInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "GlobalEltNillableInt" element
+     */
+    public boolean isNilGlobalEltNillableInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNillableInt" element
+     */
+    public void setGlobalEltNillableInt(int globalEltNillableInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNILLABLEINT$0);
+            }
+            target.setIntValue(globalEltNillableInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNillableInt" element
+     */
+    public void xsetGlobalEltNillableInt(org.apache.xmlbeans.XmlInt globalEltNillableInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTNILLABLEINT$0);
+            }
+            target.set(globalEltNillableInt);
+        }
+    }
+    
+    /**
+     * Nils the "GlobalEltNillableInt" element
+     */
+    public void setNilGlobalEltNillableInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(GLOBALELTNILLABLEINT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(GLOBALELTNILLABLEINT$0);
+            }
+            target.setNil();
+        }
+    }
+}
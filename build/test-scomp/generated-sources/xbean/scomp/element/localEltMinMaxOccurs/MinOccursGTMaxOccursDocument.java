@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: minOccursGTMaxOccurs
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs;
+
+
+/**
+ * A document containing one minOccursGTMaxOccurs(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public interface MinOccursGTMaxOccursDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MinOccursGTMaxOccursDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("minoccursgtmaxoccurs5d92doctype");
+    
+    /**
+     * Gets the "minOccursGTMaxOccurs" element
+     */
+    int getMinOccursGTMaxOccurs();
+    
+    /**
+     * Gets (as xml) the "minOccursGTMaxOccurs" element
+     */
+    org.apache.xmlbeans.XmlInt xgetMinOccursGTMaxOccurs();
+    
+    /**
+     * Sets the "minOccursGTMaxOccurs" element
+     */
+    void setMinOccursGTMaxOccurs(int minOccursGTMaxOccurs);
+    
+    /**
+     * Sets (as xml) the "minOccursGTMaxOccurs" element
+     */
+    void xsetMinOccursGTMaxOccurs(org.apache.xmlbeans.XmlInt minOccursGTMaxOccurs);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument newInstance() {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
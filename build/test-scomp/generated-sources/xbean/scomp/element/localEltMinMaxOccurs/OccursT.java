@@ -0,0 +1,236 @@
+/*
+ * XML Type:  OccursT
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.OccursT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs;
+
+
+/**
+ * An XML OccursT(@http://xbean/scomp/element/LocalEltMinMaxOccurs).
+ *
+ * This is a complex type.
+ */
+public interface OccursT extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OccursT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("occurst3e98type");
+    
+    /**
+     * Gets the "minOccursZero" element
+     */
+    int getMinOccursZero();
+    
+    /**
+     * Gets (as xml) the "minOccursZero" element
+     */
+    org.apache.xmlbeans.XmlInt xgetMinOccursZero();
+    
+    /**
+     * True if has "minOccursZero" element
+     */
+    boolean isSetMinOccursZero();
+    
+    /**
+     * Sets the "minOccursZero" element
+     */
+    void setMinOccursZero(int minOccursZero);
+    
+    /**
+     * Sets (as xml) the "minOccursZero" element
+     */
+    void xsetMinOccursZero(org.apache.xmlbeans.XmlInt minOccursZero);
+    
+    /**
+     * Unsets the "minOccursZero" element
+     */
+    void unsetMinOccursZero();
+    
+    /**
+     * Gets the "minOccursOne" element
+     */
+    int getMinOccursOne();
+    
+    /**
+     * Gets (as xml) the "minOccursOne" element
+     */
+    org.apache.xmlbeans.XmlInt xgetMinOccursOne();
+    
+    /**
+     * Sets the "minOccursOne" element
+     */
+    void setMinOccursOne(int minOccursOne);
+    
+    /**
+     * Sets (as xml) the "minOccursOne" element
+     */
+    void xsetMinOccursOne(org.apache.xmlbeans.XmlInt minOccursOne);
+    
+    /**
+     * Gets the "maxOccursOne" element
+     */
+    int getMaxOccursOne();
+    
+    /**
+     * Gets (as xml) the "maxOccursOne" element
+     */
+    org.apache.xmlbeans.XmlInt xgetMaxOccursOne();
+    
+    /**
+     * Sets the "maxOccursOne" element
+     */
+    void setMaxOccursOne(int maxOccursOne);
+    
+    /**
+     * Sets (as xml) the "maxOccursOne" element
+     */
+    void xsetMaxOccursOne(org.apache.xmlbeans.XmlInt maxOccursOne);
+    
+    /**
+     * Gets array of all "twoToFour" elements
+     */
+    int[] getTwoToFourArray();
+    
+    /**
+     * Gets ith "twoToFour" element
+     */
+    int getTwoToFourArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "twoToFour" elements
+     */
+    org.apache.xmlbeans.XmlInt[] xgetTwoToFourArray();
+    
+    /**
+     * Gets (as xml) ith "twoToFour" element
+     */
+    org.apache.xmlbeans.XmlInt xgetTwoToFourArray(int i);
+    
+    /**
+     * Returns number of "twoToFour" element
+     */
+    int sizeOfTwoToFourArray();
+    
+    /**
+     * Sets array of all "twoToFour" element
+     */
+    void setTwoToFourArray(int[] twoToFourArray);
+    
+    /**
+     * Sets ith "twoToFour" element
+     */
+    void setTwoToFourArray(int i, int twoToFour);
+    
+    /**
+     * Sets (as xml) array of all "twoToFour" element
+     */
+    void xsetTwoToFourArray(org.apache.xmlbeans.XmlInt[] twoToFourArray);
+    
+    /**
+     * Sets (as xml) ith "twoToFour" element
+     */
+    void xsetTwoToFourArray(int i, org.apache.xmlbeans.XmlInt twoToFour);
+    
+    /**
+     * Inserts the value as the ith "twoToFour" element
+     */
+    void insertTwoToFour(int i, int twoToFour);
+    
+    /**
+     * Appends the value as the last "twoToFour" element
+     */
+    void addTwoToFour(int twoToFour);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "twoToFour" element
+     */
+    org.apache.xmlbeans.XmlInt insertNewTwoToFour(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "twoToFour" element
+     */
+    org.apache.xmlbeans.XmlInt addNewTwoToFour();
+    
+    /**
+     * Removes the ith "twoToFour" element
+     */
+    void removeTwoToFour(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT newInstance() {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.localEltMinMaxOccurs.OccursT parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.localEltMinMaxOccurs.OccursT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: maxOccursOne
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MaxOccursOneDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * A document containing one maxOccursOne(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public class MaxOccursOneDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.MaxOccursOneDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxOccursOneDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MAXOCCURSONE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "maxOccursOne");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1679205851:
+                if (name.equals(MAXOCCURSONE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "maxOccursOne" element
+     */
+    public int getMaxOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MAXOCCURSONE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSONE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "maxOccursOne" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMaxOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSONE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "maxOccursOne" element
+     */
+    public void setMaxOccursOne(int maxOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSONE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MAXOCCURSONE$0);
+            }
+            target.setIntValue(maxOccursOne);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "maxOccursOne" element
+     */
+    public void xsetMaxOccursOne(org.apache.xmlbeans.XmlInt maxOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSONE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MAXOCCURSONE$0);
+            }
+            target.set(maxOccursOne);
+        }
+    }
+}
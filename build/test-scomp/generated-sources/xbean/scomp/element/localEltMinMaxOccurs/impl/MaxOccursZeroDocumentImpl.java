@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: maxOccursZero
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MaxOccursZeroDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * A document containing one maxOccursZero(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public class MaxOccursZeroDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.MaxOccursZeroDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MaxOccursZeroDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MAXOCCURSZERO$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "maxOccursZero");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 516093395:
+                if (name.equals(MAXOCCURSZERO$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "maxOccursZero" element
+     */
+    public int getMaxOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MAXOCCURSZERO$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "maxOccursZero" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMaxOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSZERO$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "maxOccursZero" element
+     */
+    public void setMaxOccursZero(int maxOccursZero)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MAXOCCURSZERO$0);
+            }
+            target.setIntValue(maxOccursZero);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "maxOccursZero" element
+     */
+    public void xsetMaxOccursZero(org.apache.xmlbeans.XmlInt maxOccursZero)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MAXOCCURSZERO$0);
+            }
+            target.set(maxOccursZero);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * An XML document type.
+ * Localname: MinMaxOccursDoc
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MinMaxOccursDocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * A document containing one MinMaxOccursDoc(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public class MinMaxOccursDocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.MinMaxOccursDocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinMaxOccursDocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINMAXOCCURSDOC$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "MinMaxOccursDoc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1792719873:
+                if (name.equals(MINMAXOCCURSDOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MinMaxOccursDoc" element
+     */
+    public xbean.scomp.element.localEltMinMaxOccurs.OccursT getMinMaxOccursDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.localEltMinMaxOccurs.OccursT target = null;
+            target = (xbean.scomp.element.localEltMinMaxOccurs.OccursT)get_store().find_element_user(MINMAXOCCURSDOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "MinMaxOccursDoc" element
+     */
+    public boolean isNilMinMaxOccursDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.localEltMinMaxOccurs.OccursT target = null;
+            target = (xbean.scomp.element.localEltMinMaxOccurs.OccursT)get_store().find_element_user(MINMAXOCCURSDOC$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "MinMaxOccursDoc" element
+     */
+    public void setMinMaxOccursDoc(xbean.scomp.element.localEltMinMaxOccurs.OccursT minMaxOccursDoc)
+    {
+        generatedSetterHelperImpl(minMaxOccursDoc, MINMAXOCCURSDOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MinMaxOccursDoc" element
+     */
+    public xbean.scomp.element.localEltMinMaxOccurs.OccursT addNewMinMaxOccursDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.localEltMinMaxOccurs.OccursT target = null;
+            target = (xbean.scomp.element.localEltMinMaxOccurs.OccursT)get_store().add_element_user(MINMAXOCCURSDOC$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Nils the "MinMaxOccursDoc" element
+     */
+    public void setNilMinMaxOccursDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.localEltMinMaxOccurs.OccursT target = null;
+            target = (xbean.scomp.element.localEltMinMaxOccurs.OccursT)get_store().find_element_user(MINMAXOCCURSDOC$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.element.localEltMinMaxOccurs.OccursT)get_store().add_element_user(MINMAXOCCURSDOC$0);
+            }
+            target.setNil();
+        }
+    }
+}
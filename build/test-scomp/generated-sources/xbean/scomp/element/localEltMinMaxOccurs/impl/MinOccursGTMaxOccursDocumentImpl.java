@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: minOccursGTMaxOccurs
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * A document containing one minOccursGTMaxOccurs(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public class MinOccursGTMaxOccursDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.MinOccursGTMaxOccursDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinOccursGTMaxOccursDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINOCCURSGTMAXOCCURS$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "minOccursGTMaxOccurs");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -143272571:
+                if (name.equals(MINOCCURSGTMAXOCCURS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "minOccursGTMaxOccurs" element
+     */
+    public int getMinOccursGTMaxOccurs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINOCCURSGTMAXOCCURS$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSGTMAXOCCURS$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "minOccursGTMaxOccurs" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMinOccursGTMaxOccurs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSGTMAXOCCURS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "minOccursGTMaxOccurs" element
+     */
+    public void setMinOccursGTMaxOccurs(int minOccursGTMaxOccurs)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSGTMAXOCCURS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINOCCURSGTMAXOCCURS$0);
+            }
+            target.setIntValue(minOccursGTMaxOccurs);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "minOccursGTMaxOccurs" element
+     */
+    public void xsetMinOccursGTMaxOccurs(org.apache.xmlbeans.XmlInt minOccursGTMaxOccurs)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSGTMAXOCCURS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MINOCCURSGTMAXOCCURS$0);
+            }
+            target.set(minOccursGTMaxOccurs);
+        }
+    }
+}
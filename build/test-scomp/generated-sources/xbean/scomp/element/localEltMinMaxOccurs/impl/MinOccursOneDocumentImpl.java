@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: minOccursOne
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.MinOccursOneDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * A document containing one minOccursOne(@http://xbean/scomp/element/LocalEltMinMaxOccurs) element.
+ *
+ * This is a complex type.
+ */
+public class MinOccursOneDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.MinOccursOneDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MinOccursOneDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINOCCURSONE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "minOccursOne");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2141335379:
+                if (name.equals(MINOCCURSONE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "minOccursOne" element
+     */
+    public int getMinOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINOCCURSONE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSONE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "minOccursOne" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMinOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSONE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "minOccursOne" element
+     */
+    public void setMinOccursOne(int minOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSONE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINOCCURSONE$0);
+            }
+            target.setIntValue(minOccursOne);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "minOccursOne" element
+     */
+    public void xsetMinOccursOne(org.apache.xmlbeans.XmlInt minOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSONE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MINOCCURSONE$0);
+            }
+            target.set(minOccursOne);
+        }
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * XML Type:  OccursT
+ * Namespace: http://xbean/scomp/element/LocalEltMinMaxOccurs
+ * Java type: xbean.scomp.element.localEltMinMaxOccurs.OccursT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.localEltMinMaxOccurs.impl;
+/**
+ * An XML OccursT(@http://xbean/scomp/element/LocalEltMinMaxOccurs).
+ *
+ * This is a complex type.
+ */
+public class OccursTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.localEltMinMaxOccurs.OccursT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OccursTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MINOCCURSZERO$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "minOccursZero");
+    private static final javax.xml.namespace.QName MINOCCURSONE$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "minOccursOne");
+    private static final javax.xml.namespace.QName MAXOCCURSONE$4 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "maxOccursOne");
+    private static final javax.xml.namespace.QName TWOTOFOUR$6 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/LocalEltMinMaxOccurs", "twoToFour");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2141335379:
+                if (name.equals(MINOCCURSONE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1956567743:
+                if (name.equals(MINOCCURSZERO$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -32071763:
+                if (name.equals(TWOTOFOUR$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1679205851:
+                if (name.equals(MAXOCCURSONE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "minOccursZero" element
+     */
+    public int getMinOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINOCCURSZERO$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "minOccursZero" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMinOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSZERO$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "minOccursZero" element
+     */
+    public boolean isSetMinOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MINOCCURSZERO$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "minOccursZero" element
+     */
+    public void setMinOccursZero(int minOccursZero)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINOCCURSZERO$0);
+            }
+            target.setIntValue(minOccursZero);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "minOccursZero" element
+     */
+    public void xsetMinOccursZero(org.apache.xmlbeans.XmlInt minOccursZero)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSZERO$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MINOCCURSZERO$0);
+            }
+            target.set(minOccursZero);
+        }
+    }
+    
+    /**
+     * Unsets the "minOccursZero" element
+     */
+    public void unsetMinOccursZero()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MINOCCURSZERO$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "minOccursOne" element
+     */
+    public int getMinOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MINOCCURSONE$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSONE$2, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "minOccursOne" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMinOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSONE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "minOccursOne" element
+     */
+    public void setMinOccursOne(int minOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MINOCCURSONE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MINOCCURSONE$2);
+            }
+            target.setIntValue(minOccursOne);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "minOccursOne" element
+     */
+    public void xsetMinOccursOne(org.apache.xmlbeans.XmlInt minOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MINOCCURSONE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MINOCCURSONE$2);
+            }
+            target.set(minOccursOne);
+        }
+    }
+    
+    /**
+     * Gets the "maxOccursOne" element
+     */
+    public int getMaxOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(MAXOCCURSONE$4, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSONE$4, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "maxOccursOne" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetMaxOccursOne()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSONE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "maxOccursOne" element
+     */
+    public void setMaxOccursOne(int maxOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MAXOCCURSONE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MAXOCCURSONE$4);
+            }
+            target.setIntValue(maxOccursOne);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "maxOccursOne" element
+     */
+    public void xsetMaxOccursOne(org.apache.xmlbeans.XmlInt maxOccursOne)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(MAXOCCURSONE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(MAXOCCURSONE$4);
+            }
+            target.set(maxOccursOne);
+        }
+    }
+    
+    /**
+     * Gets array of all "twoToFour" elements
+     */
+    public int[] getTwoToFourArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TWOTOFOUR$6, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "twoToFour" element
+     */
+    public int getTwoToFourArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(TWOTOFOUR$6, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TWOTOFOUR$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "twoToFour" elements
+     */
+    public org.apache.xmlbeans.XmlInt[] xgetTwoToFourArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TWOTOFOUR$6, targetList);
+            org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "twoToFour" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetTwoToFourArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(TWOTOFOUR$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "twoToFour" element
+     */
+    public int sizeOfTwoToFourArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TWOTOFOUR$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "twoToFour" element
+     */
+    public void setTwoToFourArray(int[] twoToFourArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(twoToFourArray, TWOTOFOUR$6);
+        }
+    }
+    
+    /**
+     * Sets ith "twoToFour" element
+     */
+    public void setTwoToFourArray(int i, int twoToFour)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TWOTOFOUR$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(twoToFour);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "twoToFour" element
+     */
+    public void xsetTwoToFourArray(org.apache.xmlbeans.XmlInt[]twoToFourArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(twoToFourArray, TWOTOFOUR$6);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "twoToFour" element
+     */
+    public void xsetTwoToFourArray(int i, org.apache.xmlbeans.XmlInt twoToFour)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(TWOTOFOUR$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(twoToFour);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "twoToFour" element
+     */
+    public void insertTwoToFour(int i, int twoToFour)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(TWOTOFOUR$6, i);
+            target.setIntValue(twoToFour);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "twoToFour" element
+     */
+    public void addTwoToFour(int twoToFour)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TWOTOFOUR$6);
+            target.setIntValue(twoToFour);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "twoToFour" element
+     */
+    public org.apache.xmlbeans.XmlInt insertNewTwoToFour(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(TWOTOFOUR$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "twoToFour" element
+     */
+    public org.apache.xmlbeans.XmlInt addNewTwoToFour()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(TWOTOFOUR$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "twoToFour" element
+     */
+    public void removeTwoToFour(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TWOTOFOUR$6, i);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * XML Type:  EmployeePerf
+ * Namespace: http://xbean/scomp/element/NamedModelGroup
+ * Java type: xbean.scomp.element.namedModelGroup.EmployeePerf
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.namedModelGroup;
+
+
+/**
+ * An XML EmployeePerf(@http://xbean/scomp/element/NamedModelGroup).
+ *
+ * This is a complex type.
+ */
+public interface EmployeePerf extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EmployeePerf.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("employeeperf0436type");
+    
+    /**
+     * Gets the "grade" element
+     */
+    java.math.BigDecimal getGrade();
+    
+    /**
+     * Gets (as xml) the "grade" element
+     */
+    org.apache.xmlbeans.XmlDecimal xgetGrade();
+    
+    /**
+     * Sets the "grade" element
+     */
+    void setGrade(java.math.BigDecimal grade);
+    
+    /**
+     * Sets (as xml) the "grade" element
+     */
+    void xsetGrade(org.apache.xmlbeans.XmlDecimal grade);
+    
+    /**
+     * Gets the "comment" element
+     */
+    java.lang.String getComment();
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    org.apache.xmlbeans.XmlString xgetComment();
+    
+    /**
+     * True if has "comment" element
+     */
+    boolean isSetComment();
+    
+    /**
+     * Sets the "comment" element
+     */
+    void setComment(java.lang.String comment);
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    void xsetComment(org.apache.xmlbeans.XmlString comment);
+    
+    /**
+     * Unsets the "comment" element
+     */
+    void unsetComment();
+    
+    /**
+     * Gets the "manager" element
+     */
+    xbean.scomp.element.namedModelGroup.ManagerDocument.Manager getManager();
+    
+    /**
+     * Sets the "manager" element
+     */
+    void setManager(xbean.scomp.element.namedModelGroup.ManagerDocument.Manager manager);
+    
+    /**
+     * Appends and returns a new empty "manager" element
+     */
+    xbean.scomp.element.namedModelGroup.ManagerDocument.Manager addNewManager();
+    
+    /**
+     * Gets the "date" attribute
+     */
+    java.util.Calendar getDate();
+    
+    /**
+     * Gets (as xml) the "date" attribute
+     */
+    org.apache.xmlbeans.XmlDate xgetDate();
+    
+    /**
+     * True if has "date" attribute
+     */
+    boolean isSetDate();
+    
+    /**
+     * Sets the "date" attribute
+     */
+    void setDate(java.util.Calendar date);
+    
+    /**
+     * Sets (as xml) the "date" attribute
+     */
+    void xsetDate(org.apache.xmlbeans.XmlDate date);
+    
+    /**
+     * Unsets the "date" attribute
+     */
+    void unsetDate();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf newInstance() {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.namedModelGroup.EmployeePerf parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.namedModelGroup.EmployeePerf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * An XML document type.
+ * Localname: manager
+ * Namespace: http://xbean/scomp/element/NamedModelGroup
+ * Java type: xbean.scomp.element.namedModelGroup.ManagerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.namedModelGroup;
+
+
+/**
+ * A document containing one manager(@http://xbean/scomp/element/NamedModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public interface ManagerDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ManagerDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("manager0a62doctype");
+    
+    /**
+     * Gets the "manager" element
+     */
+    xbean.scomp.element.namedModelGroup.ManagerDocument.Manager getManager();
+    
+    /**
+     * Sets the "manager" element
+     */
+    void setManager(xbean.scomp.element.namedModelGroup.ManagerDocument.Manager manager);
+    
+    /**
+     * Appends and returns a new empty "manager" element
+     */
+    xbean.scomp.element.namedModelGroup.ManagerDocument.Manager addNewManager();
+    
+    /**
+     * An XML manager(@http://xbean/scomp/element/NamedModelGroup).
+     *
+     * This is a complex type.
+     */
+    public interface Manager extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Manager.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("manager3be9elemtype");
+        
+        /**
+         * Gets the "LastName" element
+         */
+        java.lang.String getLastName();
+        
+        /**
+         * Gets (as xml) the "LastName" element
+         */
+        org.apache.xmlbeans.XmlString xgetLastName();
+        
+        /**
+         * Sets the "LastName" element
+         */
+        void setLastName(java.lang.String lastName);
+        
+        /**
+         * Sets (as xml) the "LastName" element
+         */
+        void xsetLastName(org.apache.xmlbeans.XmlString lastName);
+        
+        /**
+         * Gets the "Department" element
+         */
+        java.lang.String getDepartment();
+        
+        /**
+         * Gets (as xml) the "Department" element
+         */
+        org.apache.xmlbeans.XmlString xgetDepartment();
+        
+        /**
+         * Sets the "Department" element
+         */
+        void setDepartment(java.lang.String department);
+        
+        /**
+         * Sets (as xml) the "Department" element
+         */
+        void xsetDepartment(org.apache.xmlbeans.XmlString department);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.element.namedModelGroup.ManagerDocument.Manager newInstance() {
+              return (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.element.namedModelGroup.ManagerDocument.Manager newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument newInstance() {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.namedModelGroup.ManagerDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.namedModelGroup.ManagerDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
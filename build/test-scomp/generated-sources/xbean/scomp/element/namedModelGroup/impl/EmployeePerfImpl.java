@@ -0,0 +1,346 @@
+/*
+ * XML Type:  EmployeePerf
+ * Namespace: http://xbean/scomp/element/NamedModelGroup
+ * Java type: xbean.scomp.element.namedModelGroup.EmployeePerf
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.namedModelGroup.impl;
+/**
+ * An XML EmployeePerf(@http://xbean/scomp/element/NamedModelGroup).
+ *
+ * This is a complex type.
+ */
+public class EmployeePerfImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.namedModelGroup.EmployeePerf
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmployeePerfImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GRADE$0 = 
+        new javax.xml.namespace.QName("", "grade");
+    private static final javax.xml.namespace.QName COMMENT$2 = 
+        new javax.xml.namespace.QName("", "comment");
+    private static final javax.xml.namespace.QName MANAGER$4 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NamedModelGroup", "manager");
+    private static final javax.xml.namespace.QName DATE$6 = 
+        new javax.xml.namespace.QName("", "date");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 98615255:
+                if (name.equals(GRADE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 835260333:
+                if (name.equals(MANAGER$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 950398559:
+                if (name.equals(COMMENT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "grade" element
+     */
+    public java.math.BigDecimal getGrade()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GRADE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "grade" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetGrade()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(GRADE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "grade" element
+     */
+    public void setGrade(java.math.BigDecimal grade)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GRADE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GRADE$0);
+            }
+            target.setBigDecimalValue(grade);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "grade" element
+     */
+    public void xsetGrade(org.apache.xmlbeans.XmlDecimal grade)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(GRADE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(GRADE$0);
+            }
+            target.set(grade);
+        }
+    }
+    
+    /**
+     * Gets the "comment" element
+     */
+    public java.lang.String getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "comment" element
+     */
+    public boolean isSetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(COMMENT$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "comment" element
+     */
+    public void setComment(java.lang.String comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$2);
+            }
+            target.setStringValue(comment);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    public void xsetComment(org.apache.xmlbeans.XmlString comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$2);
+            }
+            target.set(comment);
+        }
+    }
+    
+    /**
+     * Unsets the "comment" element
+     */
+    public void unsetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(COMMENT$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "manager" element
+     */
+    public xbean.scomp.element.namedModelGroup.ManagerDocument.Manager getManager()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.ManagerDocument.Manager target = null;
+            target = (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager)get_store().find_element_user(MANAGER$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "manager" element
+     */
+    public void setManager(xbean.scomp.element.namedModelGroup.ManagerDocument.Manager manager)
+    {
+        generatedSetterHelperImpl(manager, MANAGER$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "manager" element
+     */
+    public xbean.scomp.element.namedModelGroup.ManagerDocument.Manager addNewManager()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.ManagerDocument.Manager target = null;
+            target = (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager)get_store().add_element_user(MANAGER$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "date" attribute
+     */
+    public java.util.Calendar getDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "date" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(DATE$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "date" attribute
+     */
+    public boolean isSetDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(DATE$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "date" attribute
+     */
+    public void setDate(java.util.Calendar date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DATE$6);
+            }
+            target.setCalendarValue(date);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "date" attribute
+     */
+    public void xsetDate(org.apache.xmlbeans.XmlDate date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(DATE$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(DATE$6);
+            }
+            target.set(date);
+        }
+    }
+    
+    /**
+     * Unsets the "date" attribute
+     */
+    public void unsetDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(DATE$6);
+        }
+    }
+}
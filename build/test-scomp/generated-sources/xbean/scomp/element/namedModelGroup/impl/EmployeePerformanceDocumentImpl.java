@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EmployeePerformance
+ * Namespace: http://xbean/scomp/element/NamedModelGroup
+ * Java type: xbean.scomp.element.namedModelGroup.EmployeePerformanceDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.namedModelGroup.impl;
+/**
+ * A document containing one EmployeePerformance(@http://xbean/scomp/element/NamedModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class EmployeePerformanceDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.namedModelGroup.EmployeePerformanceDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmployeePerformanceDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPLOYEEPERFORMANCE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NamedModelGroup", "EmployeePerformance");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2060468354:
+                if (name.equals(EMPLOYEEPERFORMANCE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EmployeePerformance" element
+     */
+    public xbean.scomp.element.namedModelGroup.EmployeePerf getEmployeePerformance()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.EmployeePerf target = null;
+            target = (xbean.scomp.element.namedModelGroup.EmployeePerf)get_store().find_element_user(EMPLOYEEPERFORMANCE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EmployeePerformance" element
+     */
+    public void setEmployeePerformance(xbean.scomp.element.namedModelGroup.EmployeePerf employeePerformance)
+    {
+        generatedSetterHelperImpl(employeePerformance, EMPLOYEEPERFORMANCE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EmployeePerformance" element
+     */
+    public xbean.scomp.element.namedModelGroup.EmployeePerf addNewEmployeePerformance()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.EmployeePerf target = null;
+            target = (xbean.scomp.element.namedModelGroup.EmployeePerf)get_store().add_element_user(EMPLOYEEPERFORMANCE$0);
+            return target;
+        }
+    }
+}
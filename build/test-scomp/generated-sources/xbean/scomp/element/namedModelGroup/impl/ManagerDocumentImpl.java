@@ -0,0 +1,255 @@
+/*
+ * An XML document type.
+ * Localname: manager
+ * Namespace: http://xbean/scomp/element/NamedModelGroup
+ * Java type: xbean.scomp.element.namedModelGroup.ManagerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.namedModelGroup.impl;
+/**
+ * A document containing one manager(@http://xbean/scomp/element/NamedModelGroup) element.
+ *
+ * This is a complex type.
+ */
+public class ManagerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.namedModelGroup.ManagerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ManagerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MANAGER$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NamedModelGroup", "manager");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 835260333:
+                if (name.equals(MANAGER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "manager" element
+     */
+    public xbean.scomp.element.namedModelGroup.ManagerDocument.Manager getManager()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.ManagerDocument.Manager target = null;
+            target = (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager)get_store().find_element_user(MANAGER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "manager" element
+     */
+    public void setManager(xbean.scomp.element.namedModelGroup.ManagerDocument.Manager manager)
+    {
+        generatedSetterHelperImpl(manager, MANAGER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "manager" element
+     */
+    public xbean.scomp.element.namedModelGroup.ManagerDocument.Manager addNewManager()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.namedModelGroup.ManagerDocument.Manager target = null;
+            target = (xbean.scomp.element.namedModelGroup.ManagerDocument.Manager)get_store().add_element_user(MANAGER$0);
+            return target;
+        }
+    }
+    /**
+     * An XML manager(@http://xbean/scomp/element/NamedModelGroup).
+     *
+     * This is a complex type.
+     */
+    public static class ManagerImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.namedModelGroup.ManagerDocument.Manager
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ManagerImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LASTNAME$0 = 
+            new javax.xml.namespace.QName("", "LastName");
+        private static final javax.xml.namespace.QName DEPARTMENT$2 = 
+            new javax.xml.namespace.QName("", "Department");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1453318286:
+                    if (name.equals(DEPARTMENT$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -1394955679:
+                    if (name.equals(LASTNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "LastName" element
+         */
+        public java.lang.String getLastName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "LastName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetLastName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "LastName" element
+         */
+        public void setLastName(java.lang.String lastName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$0);
+                }
+                target.setStringValue(lastName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "LastName" element
+         */
+        public void xsetLastName(org.apache.xmlbeans.XmlString lastName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$0);
+                }
+                target.set(lastName);
+            }
+        }
+        
+        /**
+         * Gets the "Department" element
+         */
+        public java.lang.String getDepartment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DEPARTMENT$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Department" element
+         */
+        public org.apache.xmlbeans.XmlString xgetDepartment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DEPARTMENT$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Department" element
+         */
+        public void setDepartment(java.lang.String department)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DEPARTMENT$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DEPARTMENT$2);
+                }
+                target.setStringValue(department);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Department" element
+         */
+        public void xsetDepartment(org.apache.xmlbeans.XmlString department)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DEPARTMENT$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DEPARTMENT$2);
+                }
+                target.set(department);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  AddressInfo
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.AddressInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest;
+
+
+/**
+ * An XML AddressInfo(@http://xbean/scomp/element/NillTest).
+ *
+ * This is a complex type.
+ */
+public interface AddressInfo extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AddressInfo.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("addressinfo8a9ftype");
+    
+    /**
+     * Gets the "GlobalEltNotNillable" element
+     */
+    java.lang.String getGlobalEltNotNillable();
+    
+    /**
+     * Gets (as xml) the "GlobalEltNotNillable" element
+     */
+    org.apache.xmlbeans.XmlString xgetGlobalEltNotNillable();
+    
+    /**
+     * True if has "GlobalEltNotNillable" element
+     */
+    boolean isSetGlobalEltNotNillable();
+    
+    /**
+     * Sets the "GlobalEltNotNillable" element
+     */
+    void setGlobalEltNotNillable(java.lang.String globalEltNotNillable);
+    
+    /**
+     * Sets (as xml) the "GlobalEltNotNillable" element
+     */
+    void xsetGlobalEltNotNillable(org.apache.xmlbeans.XmlString globalEltNotNillable);
+    
+    /**
+     * Unsets the "GlobalEltNotNillable" element
+     */
+    void unsetGlobalEltNotNillable();
+    
+    /**
+     * Gets the "cityName" element
+     */
+    java.lang.String getCityName();
+    
+    /**
+     * Gets (as xml) the "cityName" element
+     */
+    xbean.scomp.element.nillTest.CityNameDocument.CityName xgetCityName();
+    
+    /**
+     * True if has "cityName" element
+     */
+    boolean isSetCityName();
+    
+    /**
+     * Sets the "cityName" element
+     */
+    void setCityName(java.lang.String cityName);
+    
+    /**
+     * Sets (as xml) the "cityName" element
+     */
+    void xsetCityName(xbean.scomp.element.nillTest.CityNameDocument.CityName cityName);
+    
+    /**
+     * Unsets the "cityName" element
+     */
+    void unsetCityName();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.nillTest.AddressInfo newInstance() {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.AddressInfo parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.nillTest.AddressInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.nillTest.AddressInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.nillTest.AddressInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
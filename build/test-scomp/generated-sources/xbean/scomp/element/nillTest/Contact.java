@@ -0,0 +1,211 @@
+/*
+ * XML Type:  Contact
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.Contact
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest;
+
+
+/**
+ * An XML Contact(@http://xbean/scomp/element/NillTest).
+ *
+ * This is a complex type.
+ */
+public interface Contact extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Contact.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("contact407dtype");
+    
+    /**
+     * Gets the "firstName" element
+     */
+    java.lang.String getFirstName();
+    
+    /**
+     * Gets (as xml) the "firstName" element
+     */
+    org.apache.xmlbeans.XmlString xgetFirstName();
+    
+    /**
+     * True if has "firstName" element
+     */
+    boolean isSetFirstName();
+    
+    /**
+     * Sets the "firstName" element
+     */
+    void setFirstName(java.lang.String firstName);
+    
+    /**
+     * Sets (as xml) the "firstName" element
+     */
+    void xsetFirstName(org.apache.xmlbeans.XmlString firstName);
+    
+    /**
+     * Unsets the "firstName" element
+     */
+    void unsetFirstName();
+    
+    /**
+     * Gets the "lastName" element
+     */
+    java.lang.String getLastName();
+    
+    /**
+     * Gets (as xml) the "lastName" element
+     */
+    org.apache.xmlbeans.XmlString xgetLastName();
+    
+    /**
+     * True if has "lastName" element
+     */
+    boolean isSetLastName();
+    
+    /**
+     * Sets the "lastName" element
+     */
+    void setLastName(java.lang.String lastName);
+    
+    /**
+     * Sets (as xml) the "lastName" element
+     */
+    void xsetLastName(org.apache.xmlbeans.XmlString lastName);
+    
+    /**
+     * Unsets the "lastName" element
+     */
+    void unsetLastName();
+    
+    /**
+     * Gets the "LocalNillableElem" element
+     */
+    java.lang.String getLocalNillableElem();
+    
+    /**
+     * Gets (as xml) the "LocalNillableElem" element
+     */
+    org.apache.xmlbeans.XmlString xgetLocalNillableElem();
+    
+    /**
+     * Tests for nil "LocalNillableElem" element
+     */
+    boolean isNilLocalNillableElem();
+    
+    /**
+     * Sets the "LocalNillableElem" element
+     */
+    void setLocalNillableElem(java.lang.String localNillableElem);
+    
+    /**
+     * Sets (as xml) the "LocalNillableElem" element
+     */
+    void xsetLocalNillableElem(org.apache.xmlbeans.XmlString localNillableElem);
+    
+    /**
+     * Nils the "LocalNillableElem" element
+     */
+    void setNilLocalNillableElem();
+    
+    /**
+     * Gets the "address" element
+     */
+    xbean.scomp.element.nillTest.AddressInfo getAddress();
+    
+    /**
+     * True if has "address" element
+     */
+    boolean isSetAddress();
+    
+    /**
+     * Sets the "address" element
+     */
+    void setAddress(xbean.scomp.element.nillTest.AddressInfo address);
+    
+    /**
+     * Appends and returns a new empty "address" element
+     */
+    xbean.scomp.element.nillTest.AddressInfo addNewAddress();
+    
+    /**
+     * Unsets the "address" element
+     */
+    void unsetAddress();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.element.nillTest.Contact newInstance() {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.element.nillTest.Contact parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.element.nillTest.Contact parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.nillTest.Contact parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.element.nillTest.Contact parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.element.nillTest.Contact) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
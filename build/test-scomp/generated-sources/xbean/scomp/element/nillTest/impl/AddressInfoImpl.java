@@ -0,0 +1,230 @@
+/*
+ * XML Type:  AddressInfo
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.AddressInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * An XML AddressInfo(@http://xbean/scomp/element/NillTest).
+ *
+ * This is a complex type.
+ */
+public class AddressInfoImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.AddressInfo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AddressInfoImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNOTNILLABLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "GlobalEltNotNillable");
+    private static final javax.xml.namespace.QName CITYNAME$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "cityName");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1421682026:
+                if (name.equals(CITYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 191647742:
+                if (name.equals(GLOBALELTNOTNILLABLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNotNillable" element
+     */
+    public java.lang.String getGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNotNillable" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "GlobalEltNotNillable" element
+     */
+    public boolean isSetGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(GLOBALELTNOTNILLABLE$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNotNillable" element
+     */
+    public void setGlobalEltNotNillable(java.lang.String globalEltNotNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNOTNILLABLE$0);
+            }
+            target.setStringValue(globalEltNotNillable);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNotNillable" element
+     */
+    public void xsetGlobalEltNotNillable(org.apache.xmlbeans.XmlString globalEltNotNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNOTNILLABLE$0);
+            }
+            target.set(globalEltNotNillable);
+        }
+    }
+    
+    /**
+     * Unsets the "GlobalEltNotNillable" element
+     */
+    public void unsetGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(GLOBALELTNOTNILLABLE$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "cityName" element
+     */
+    public java.lang.String getCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "cityName" element
+     */
+    public xbean.scomp.element.nillTest.CityNameDocument.CityName xgetCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.CityNameDocument.CityName target = null;
+            target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "cityName" element
+     */
+    public boolean isSetCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CITYNAME$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "cityName" element
+     */
+    public void setCityName(java.lang.String cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITYNAME$2);
+            }
+            target.setStringValue(cityName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "cityName" element
+     */
+    public void xsetCityName(xbean.scomp.element.nillTest.CityNameDocument.CityName cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.CityNameDocument.CityName target = null;
+            target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$2, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().add_element_user(CITYNAME$2);
+            }
+            target.set(cityName);
+        }
+    }
+    
+    /**
+     * Unsets the "cityName" element
+     */
+    public void unsetCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CITYNAME$2, 0);
+        }
+    }
+}
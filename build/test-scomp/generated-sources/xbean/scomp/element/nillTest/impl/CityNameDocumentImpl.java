@@ -0,0 +1,128 @@
+/*
+ * An XML document type.
+ * Localname: cityName
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.CityNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * A document containing one cityName(@http://xbean/scomp/element/NillTest) element.
+ *
+ * This is a complex type.
+ */
+public class CityNameDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.CityNameDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CityNameDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITYNAME$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "cityName");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1421682026:
+                if (name.equals(CITYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "cityName" element
+     */
+    public java.lang.String getCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "cityName" element
+     */
+    public xbean.scomp.element.nillTest.CityNameDocument.CityName xgetCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.CityNameDocument.CityName target = null;
+            target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "cityName" element
+     */
+    public void setCityName(java.lang.String cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITYNAME$0);
+            }
+            target.setStringValue(cityName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "cityName" element
+     */
+    public void xsetCityName(xbean.scomp.element.nillTest.CityNameDocument.CityName cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.CityNameDocument.CityName target = null;
+            target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.element.nillTest.CityNameDocument.CityName)get_store().add_element_user(CITYNAME$0);
+            }
+            target.set(cityName);
+        }
+    }
+    /**
+     * An XML cityName(@http://xbean/scomp/element/NillTest).
+     *
+     * This is an atomic type that is a restriction of xbean.scomp.element.nillTest.CityNameDocument$CityName.
+     */
+    public static class CityNameImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.element.nillTest.CityNameDocument.CityName
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CityNameImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected CityNameImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
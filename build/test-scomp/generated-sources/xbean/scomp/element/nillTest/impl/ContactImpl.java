@@ -0,0 +1,407 @@
+/*
+ * XML Type:  Contact
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.Contact
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * An XML Contact(@http://xbean/scomp/element/NillTest).
+ *
+ * This is a complex type.
+ */
+public class ContactImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.Contact
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ContactImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRSTNAME$0 = 
+        new javax.xml.namespace.QName("", "firstName");
+    private static final javax.xml.namespace.QName LASTNAME$2 = 
+        new javax.xml.namespace.QName("", "lastName");
+    private static final javax.xml.namespace.QName LOCALNILLABLEELEM$4 = 
+        new javax.xml.namespace.QName("", "LocalNillableElem");
+    private static final javax.xml.namespace.QName ADDRESS$6 = 
+        new javax.xml.namespace.QName("", "address");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1459599807:
+                if (name.equals(LASTNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1147692044:
+                if (name.equals(ADDRESS$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 132835675:
+                if (name.equals(FIRSTNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 353366127:
+                if (name.equals(LOCALNILLABLEELEM$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "firstName" element
+     */
+    public java.lang.String getFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "firstName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "firstName" element
+     */
+    public boolean isSetFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FIRSTNAME$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "firstName" element
+     */
+    public void setFirstName(java.lang.String firstName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.setStringValue(firstName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "firstName" element
+     */
+    public void xsetFirstName(org.apache.xmlbeans.XmlString firstName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.set(firstName);
+        }
+    }
+    
+    /**
+     * Unsets the "firstName" element
+     */
+    public void unsetFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FIRSTNAME$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "lastName" element
+     */
+    public java.lang.String getLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "lastName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "lastName" element
+     */
+    public boolean isSetLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LASTNAME$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "lastName" element
+     */
+    public void setLastName(java.lang.String lastName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$2);
+            }
+            target.setStringValue(lastName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "lastName" element
+     */
+    public void xsetLastName(org.apache.xmlbeans.XmlString lastName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$2);
+            }
+            target.set(lastName);
+        }
+    }
+    
+    /**
+     * Unsets the "lastName" element
+     */
+    public void unsetLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LASTNAME$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "LocalNillableElem" element
+     */
+    public java.lang.String getLocalNillableElem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LocalNillableElem" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLocalNillableElem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "LocalNillableElem" element
+     */
+    public boolean isNilLocalNillableElem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "LocalNillableElem" element
+     */
+    public void setLocalNillableElem(java.lang.String localNillableElem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCALNILLABLEELEM$4);
+            }
+            target.setStringValue(localNillableElem);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LocalNillableElem" element
+     */
+    public void xsetLocalNillableElem(org.apache.xmlbeans.XmlString localNillableElem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LOCALNILLABLEELEM$4);
+            }
+            target.set(localNillableElem);
+        }
+    }
+    
+    /**
+     * Nils the "LocalNillableElem" element
+     */
+    public void setNilLocalNillableElem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCALNILLABLEELEM$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LOCALNILLABLEELEM$4);
+            }
+            target.setNil();
+        }
+    }
+    
+    /**
+     * Gets the "address" element
+     */
+    public xbean.scomp.element.nillTest.AddressInfo getAddress()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.AddressInfo target = null;
+            target = (xbean.scomp.element.nillTest.AddressInfo)get_store().find_element_user(ADDRESS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "address" element
+     */
+    public boolean isSetAddress()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ADDRESS$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "address" element
+     */
+    public void setAddress(xbean.scomp.element.nillTest.AddressInfo address)
+    {
+        generatedSetterHelperImpl(address, ADDRESS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "address" element
+     */
+    public xbean.scomp.element.nillTest.AddressInfo addNewAddress()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.element.nillTest.AddressInfo target = null;
+            target = (xbean.scomp.element.nillTest.AddressInfo)get_store().add_element_user(ADDRESS$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "address" element
+     */
+    public void unsetAddress()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ADDRESS$6, 0);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltDefault
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.GlobalEltDefaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * A document containing one GlobalEltDefault(@http://xbean/scomp/element/NillTest) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltDefaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.GlobalEltDefaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltDefaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTDEFAULT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "GlobalEltDefault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1507693321:
+                if (name.equals(GLOBALELTDEFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltDefault" element
+     */
+    public java.math.BigInteger getGlobalEltDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltDefault" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetGlobalEltDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(GLOBALELTDEFAULT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltDefault" element
+     */
+    public void setGlobalEltDefault(java.math.BigInteger globalEltDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTDEFAULT$0);
+            }
+            target.setBigIntegerValue(globalEltDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltDefault" element
+     */
+    public void xsetGlobalEltDefault(org.apache.xmlbeans.XmlInteger globalEltDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(GLOBALELTDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(GLOBALELTDEFAULT$0);
+            }
+            target.set(globalEltDefault);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltFixed
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.GlobalEltFixedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * A document containing one GlobalEltFixed(@http://xbean/scomp/element/NillTest) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltFixedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.GlobalEltFixedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltFixedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTFIXED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "GlobalEltFixed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -790645846:
+                if (name.equals(GLOBALELTFIXED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltFixed" element
+     */
+    public java.math.BigInteger getGlobalEltFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltFixed" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetGlobalEltFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(GLOBALELTFIXED$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltFixed" element
+     */
+    public void setGlobalEltFixed(java.math.BigInteger globalEltFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTFIXED$0);
+            }
+            target.setBigIntegerValue(globalEltFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltFixed" element
+     */
+    public void xsetGlobalEltFixed(org.apache.xmlbeans.XmlInteger globalEltFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(GLOBALELTFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(GLOBALELTFIXED$0);
+            }
+            target.set(globalEltFixed);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltNillable
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.GlobalEltNillableDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * A document containing one GlobalEltNillable(@http://xbean/scomp/element/NillTest) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltNillableDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.GlobalEltNillableDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltNillableDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNILLABLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "GlobalEltNillable");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 190756959:
+                if (name.equals(GLOBALELTNILLABLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNillable" element
+     */
+    public java.lang.String getGlobalEltNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNillable" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "GlobalEltNillable" element
+     */
+    public boolean isNilGlobalEltNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNillable" element
+     */
+    public void setGlobalEltNillable(java.lang.String globalEltNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNILLABLE$0);
+            }
+            target.setStringValue(globalEltNillable);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNillable" element
+     */
+    public void xsetGlobalEltNillable(org.apache.xmlbeans.XmlString globalEltNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNILLABLE$0);
+            }
+            target.set(globalEltNillable);
+        }
+    }
+    
+    /**
+     * Nils the "GlobalEltNillable" element
+     */
+    public void setNilGlobalEltNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNILLABLE$0);
+            }
+            target.setNil();
+        }
+    }
+}
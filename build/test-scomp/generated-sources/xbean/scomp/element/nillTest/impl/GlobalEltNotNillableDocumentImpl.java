@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: GlobalEltNotNillable
+ * Namespace: http://xbean/scomp/element/NillTest
+ * Java type: xbean.scomp.element.nillTest.GlobalEltNotNillableDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.element.nillTest.impl;
+/**
+ * A document containing one GlobalEltNotNillable(@http://xbean/scomp/element/NillTest) element.
+ *
+ * This is a complex type.
+ */
+public class GlobalEltNotNillableDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.element.nillTest.GlobalEltNotNillableDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GlobalEltNotNillableDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GLOBALELTNOTNILLABLE$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/element/NillTest", "GlobalEltNotNillable");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 191647742:
+                if (name.equals(GLOBALELTNOTNILLABLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GlobalEltNotNillable" element
+     */
+    public java.lang.String getGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "GlobalEltNotNillable" element
+     */
+    public org.apache.xmlbeans.XmlString xgetGlobalEltNotNillable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GlobalEltNotNillable" element
+     */
+    public void setGlobalEltNotNillable(java.lang.String globalEltNotNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GLOBALELTNOTNILLABLE$0);
+            }
+            target.setStringValue(globalEltNotNillable);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "GlobalEltNotNillable" element
+     */
+    public void xsetGlobalEltNotNillable(org.apache.xmlbeans.XmlString globalEltNotNillable)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(GLOBALELTNOTNILLABLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(GLOBALELTNOTNILLABLE$0);
+            }
+            target.set(globalEltNotNillable);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * An XML document type.
+ * Localname: CompanyDB
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.CompanyDBDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint;
+
+
+/**
+ * A document containing one CompanyDB(@http://xbean/scomp/idConstraint/Constraint) element.
+ *
+ * This is a complex type.
+ */
+public interface CompanyDBDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CompanyDBDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("companydbf8ccdoctype");
+    
+    /**
+     * Gets the "CompanyDB" element
+     */
+    xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB getCompanyDB();
+    
+    /**
+     * Sets the "CompanyDB" element
+     */
+    void setCompanyDB(xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB companyDB);
+    
+    /**
+     * Appends and returns a new empty "CompanyDB" element
+     */
+    xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB addNewCompanyDB();
+    
+    /**
+     * An XML CompanyDB(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public interface CompanyDB extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CompanyDB.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("companydb60e5elemtype");
+        
+        /**
+         * Gets the "KeyProductList" element
+         */
+        xbean.scomp.idConstraint.constraint.OtherProductListType getKeyProductList();
+        
+        /**
+         * Sets the "KeyProductList" element
+         */
+        void setKeyProductList(xbean.scomp.idConstraint.constraint.OtherProductListType keyProductList);
+        
+        /**
+         * Appends and returns a new empty "KeyProductList" element
+         */
+        xbean.scomp.idConstraint.constraint.OtherProductListType addNewKeyProductList();
+        
+        /**
+         * Gets array of all "order" elements
+         */
+        xbean.scomp.idConstraint.constraint.OrderType[] getOrderArray();
+        
+        /**
+         * Gets ith "order" element
+         */
+        xbean.scomp.idConstraint.constraint.OrderType getOrderArray(int i);
+        
+        /**
+         * Returns number of "order" element
+         */
+        int sizeOfOrderArray();
+        
+        /**
+         * Sets array of all "order" element
+         */
+        void setOrderArray(xbean.scomp.idConstraint.constraint.OrderType[] orderArray);
+        
+        /**
+         * Sets ith "order" element
+         */
+        void setOrderArray(int i, xbean.scomp.idConstraint.constraint.OrderType order);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "order" element
+         */
+        xbean.scomp.idConstraint.constraint.OrderType insertNewOrder(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "order" element
+         */
+        xbean.scomp.idConstraint.constraint.OrderType addNewOrder();
+        
+        /**
+         * Removes the ith "order" element
+         */
+        void removeOrder(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB newInstance() {
+              return (xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument newInstance() {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.CompanyDBDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.CompanyDBDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * XML Type:  OrderType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.OrderType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint;
+
+
+/**
+ * An XML OrderType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public interface OrderType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OrderType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("ordertypeb6aftype");
+    
+    /**
+     * Gets the "customerName" element
+     */
+    java.lang.String getCustomerName();
+    
+    /**
+     * Gets (as xml) the "customerName" element
+     */
+    org.apache.xmlbeans.XmlString xgetCustomerName();
+    
+    /**
+     * Sets the "customerName" element
+     */
+    void setCustomerName(java.lang.String customerName);
+    
+    /**
+     * Sets (as xml) the "customerName" element
+     */
+    void xsetCustomerName(org.apache.xmlbeans.XmlString customerName);
+    
+    /**
+     * Gets array of all "item" elements
+     */
+    xbean.scomp.idConstraint.constraint.OrderType.Item[] getItemArray();
+    
+    /**
+     * Gets ith "item" element
+     */
+    xbean.scomp.idConstraint.constraint.OrderType.Item getItemArray(int i);
+    
+    /**
+     * Returns number of "item" element
+     */
+    int sizeOfItemArray();
+    
+    /**
+     * Sets array of all "item" element
+     */
+    void setItemArray(xbean.scomp.idConstraint.constraint.OrderType.Item[] itemArray);
+    
+    /**
+     * Sets ith "item" element
+     */
+    void setItemArray(int i, xbean.scomp.idConstraint.constraint.OrderType.Item item);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "item" element
+     */
+    xbean.scomp.idConstraint.constraint.OrderType.Item insertNewItem(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "item" element
+     */
+    xbean.scomp.idConstraint.constraint.OrderType.Item addNewItem();
+    
+    /**
+     * Removes the ith "item" element
+     */
+    void removeItem(int i);
+    
+    /**
+     * An XML item(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public interface Item extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Item.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("item0620elemtype");
+        
+        /**
+         * Gets the "SKU" attribute
+         */
+        java.lang.String getSKU();
+        
+        /**
+         * Gets (as xml) the "SKU" attribute
+         */
+        org.apache.xmlbeans.XmlToken xgetSKU();
+        
+        /**
+         * True if has "SKU" attribute
+         */
+        boolean isSetSKU();
+        
+        /**
+         * Sets the "SKU" attribute
+         */
+        void setSKU(java.lang.String sku);
+        
+        /**
+         * Sets (as xml) the "SKU" attribute
+         */
+        void xsetSKU(org.apache.xmlbeans.XmlToken sku);
+        
+        /**
+         * Unsets the "SKU" attribute
+         */
+        void unsetSKU();
+        
+        /**
+         * Gets the "deptId" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType getDeptId();
+        
+        /**
+         * True if has "deptId" attribute
+         */
+        boolean isSetDeptId();
+        
+        /**
+         * Sets the "deptId" attribute
+         */
+        void setDeptId(org.apache.xmlbeans.XmlAnySimpleType deptId);
+        
+        /**
+         * Appends and returns a new empty "deptId" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType addNewDeptId();
+        
+        /**
+         * Unsets the "deptId" attribute
+         */
+        void unsetDeptId();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.idConstraint.constraint.OrderType.Item newInstance() {
+              return (xbean.scomp.idConstraint.constraint.OrderType.Item) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.idConstraint.constraint.OrderType.Item newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.idConstraint.constraint.OrderType.Item) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.idConstraint.constraint.OrderType newInstance() {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OrderType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
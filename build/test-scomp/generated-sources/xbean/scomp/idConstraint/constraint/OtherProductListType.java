@@ -0,0 +1,136 @@
+/*
+ * XML Type:  OtherProductListType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.OtherProductListType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint;
+
+
+/**
+ * An XML OtherProductListType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public interface OtherProductListType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OtherProductListType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("otherproductlisttypefd6etype");
+    
+    /**
+     * Gets array of all "product" elements
+     */
+    xbean.scomp.idConstraint.constraint.ProductType[] getProductArray();
+    
+    /**
+     * Gets ith "product" element
+     */
+    xbean.scomp.idConstraint.constraint.ProductType getProductArray(int i);
+    
+    /**
+     * Returns number of "product" element
+     */
+    int sizeOfProductArray();
+    
+    /**
+     * Sets array of all "product" element
+     */
+    void setProductArray(xbean.scomp.idConstraint.constraint.ProductType[] productArray);
+    
+    /**
+     * Sets ith "product" element
+     */
+    void setProductArray(int i, xbean.scomp.idConstraint.constraint.ProductType product);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "product" element
+     */
+    xbean.scomp.idConstraint.constraint.ProductType insertNewProduct(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "product" element
+     */
+    xbean.scomp.idConstraint.constraint.ProductType addNewProduct();
+    
+    /**
+     * Removes the ith "product" element
+     */
+    void removeProduct(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType newInstance() {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OtherProductListType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductListType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
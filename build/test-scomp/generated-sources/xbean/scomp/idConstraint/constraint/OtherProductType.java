@@ -0,0 +1,193 @@
+/*
+ * XML Type:  OtherProductType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.OtherProductType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint;
+
+
+/**
+ * An XML OtherProductType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public interface OtherProductType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OtherProductType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("otherproducttype59ectype");
+    
+    /**
+     * Gets the "department" element
+     */
+    xbean.scomp.idConstraint.constraint.OtherProductType.Department getDepartment();
+    
+    /**
+     * True if has "department" element
+     */
+    boolean isSetDepartment();
+    
+    /**
+     * Sets the "department" element
+     */
+    void setDepartment(xbean.scomp.idConstraint.constraint.OtherProductType.Department department);
+    
+    /**
+     * Appends and returns a new empty "department" element
+     */
+    xbean.scomp.idConstraint.constraint.OtherProductType.Department addNewDepartment();
+    
+    /**
+     * Unsets the "department" element
+     */
+    void unsetDepartment();
+    
+    /**
+     * Gets the "id" element
+     */
+    java.lang.String getId();
+    
+    /**
+     * Gets (as xml) the "id" element
+     */
+    org.apache.xmlbeans.XmlToken xgetId();
+    
+    /**
+     * Sets the "id" element
+     */
+    void setId(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "id" element
+     */
+    void xsetId(org.apache.xmlbeans.XmlToken id);
+    
+    /**
+     * An XML department(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public interface Department extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Department.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("departmentfb5aelemtype");
+        
+        /**
+         * Gets the "name" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType getName();
+        
+        /**
+         * True if has "name" attribute
+         */
+        boolean isSetName();
+        
+        /**
+         * Sets the "name" attribute
+         */
+        void setName(org.apache.xmlbeans.XmlAnySimpleType name);
+        
+        /**
+         * Appends and returns a new empty "name" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType addNewName();
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        void unsetName();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.idConstraint.constraint.OtherProductType.Department newInstance() {
+              return (xbean.scomp.idConstraint.constraint.OtherProductType.Department) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.idConstraint.constraint.OtherProductType.Department newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.idConstraint.constraint.OtherProductType.Department) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.idConstraint.constraint.OtherProductType newInstance() {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.idConstraint.constraint.OtherProductType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.idConstraint.constraint.OtherProductType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * An XML document type.
+ * Localname: CompanyDB
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.CompanyDBDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * A document containing one CompanyDB(@http://xbean/scomp/idConstraint/Constraint) element.
+ *
+ * This is a complex type.
+ */
+public class CompanyDBDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.CompanyDBDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CompanyDBDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMPANYDB$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "CompanyDB");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 591149467:
+                if (name.equals(COMPANYDB$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CompanyDB" element
+     */
+    public xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB getCompanyDB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB target = null;
+            target = (xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB)get_store().find_element_user(COMPANYDB$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CompanyDB" element
+     */
+    public void setCompanyDB(xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB companyDB)
+    {
+        generatedSetterHelperImpl(companyDB, COMPANYDB$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "CompanyDB" element
+     */
+    public xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB addNewCompanyDB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB target = null;
+            target = (xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB)get_store().add_element_user(COMPANYDB$0);
+            return target;
+        }
+    }
+    /**
+     * An XML CompanyDB(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public static class CompanyDBImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.CompanyDBDocument.CompanyDB
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CompanyDBImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName KEYPRODUCTLIST$0 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "KeyProductList");
+        private static final javax.xml.namespace.QName ORDER$2 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "order");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -215984530:
+                    if (name.equals(KEYPRODUCTLIST$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 106006350:
+                    if (name.equals(ORDER$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "KeyProductList" element
+         */
+        public xbean.scomp.idConstraint.constraint.OtherProductListType getKeyProductList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.idConstraint.constraint.OtherProductListType target = null;
+                target = (xbean.scomp.idConstraint.constraint.OtherProductListType)get_store().find_element_user(KEYPRODUCTLIST$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "KeyProductList" element
+         */
+        public void setKeyProductList(xbean.scomp.idConstraint.constraint.OtherProductListType keyProductList)
+        {
+            generatedSetterHelperImpl(keyProductList, KEYPRODUCTLIST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "KeyProductList" element
+         */
+        public xbean.scomp.idConstraint.constraint.OtherProductListType addNewKeyProductList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.idConstraint.constraint.OtherProductListType target = null;
+                target = (xbean.scomp.idConstraint.constraint.OtherProductListType)get_store().add_element_user(KEYPRODUCTLIST$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "order" elements
+         */
+        public xbean.scomp.idConstraint.constraint.OrderType[] getOrderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ORDER$2, targetList);
+                xbean.scomp.idConstraint.constraint.OrderType[] result = new xbean.scomp.idConstraint.constraint.OrderType[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "order" element
+         */
+        public xbean.scomp.idConstraint.constraint.OrderType getOrderArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.idConstraint.constraint.OrderType target = null;
+                target = (xbean.scomp.idConstraint.constraint.OrderType)get_store().find_element_user(ORDER$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "order" element
+         */
+        public int sizeOfOrderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ORDER$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "order" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setOrderArray(xbean.scomp.idConstraint.constraint.OrderType[] orderArray)
+        {
+            check_orphaned();
+            arraySetterHelper(orderArray, ORDER$2);
+        }
+        
+        /**
+         * Sets ith "order" element
+         */
+        public void setOrderArray(int i, xbean.scomp.idConstraint.constraint.OrderType order)
+        {
+            generatedSetterHelperImpl(order, ORDER$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "order" element
+         */
+        public xbean.scomp.idConstraint.constraint.OrderType insertNewOrder(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.idConstraint.constraint.OrderType target = null;
+                target = (xbean.scomp.idConstraint.constraint.OrderType)get_store().insert_element_user(ORDER$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "order" element
+         */
+        public xbean.scomp.idConstraint.constraint.OrderType addNewOrder()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.idConstraint.constraint.OrderType target = null;
+                target = (xbean.scomp.idConstraint.constraint.OrderType)get_store().add_element_user(ORDER$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "order" element
+         */
+        public void removeOrder(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ORDER$2, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: KeyProductList
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.KeyProductListDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * A document containing one KeyProductList(@http://xbean/scomp/idConstraint/Constraint) element.
+ *
+ * This is a complex type.
+ */
+public class KeyProductListDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.KeyProductListDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public KeyProductListDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KEYPRODUCTLIST$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "KeyProductList");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -215984530:
+                if (name.equals(KEYPRODUCTLIST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "KeyProductList" element
+     */
+    public xbean.scomp.idConstraint.constraint.OtherProductListType getKeyProductList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OtherProductListType target = null;
+            target = (xbean.scomp.idConstraint.constraint.OtherProductListType)get_store().find_element_user(KEYPRODUCTLIST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "KeyProductList" element
+     */
+    public void setKeyProductList(xbean.scomp.idConstraint.constraint.OtherProductListType keyProductList)
+    {
+        generatedSetterHelperImpl(keyProductList, KEYPRODUCTLIST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "KeyProductList" element
+     */
+    public xbean.scomp.idConstraint.constraint.OtherProductListType addNewKeyProductList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OtherProductListType target = null;
+            target = (xbean.scomp.idConstraint.constraint.OtherProductListType)get_store().add_element_user(KEYPRODUCTLIST$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * XML Type:  OrderType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.OrderType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * An XML OrderType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public class OrderTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.OrderType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CUSTOMERNAME$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "customerName");
+    private static final javax.xml.namespace.QName ITEM$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "item");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3242771:
+                if (name.equals(ITEM$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 900157321:
+                if (name.equals(CUSTOMERNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "customerName" element
+     */
+    public java.lang.String getCustomerName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "customerName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCustomerName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "customerName" element
+     */
+    public void setCustomerName(java.lang.String customerName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CUSTOMERNAME$0);
+            }
+            target.setStringValue(customerName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "customerName" element
+     */
+    public void xsetCustomerName(org.apache.xmlbeans.XmlString customerName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CUSTOMERNAME$0);
+            }
+            target.set(customerName);
+        }
+    }
+    
+    /**
+     * Gets array of all "item" elements
+     */
+    public xbean.scomp.idConstraint.constraint.OrderType.Item[] getItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ITEM$2, targetList);
+            xbean.scomp.idConstraint.constraint.OrderType.Item[] result = new xbean.scomp.idConstraint.constraint.OrderType.Item[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "item" element
+     */
+    public xbean.scomp.idConstraint.constraint.OrderType.Item getItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OrderType.Item target = null;
+            target = (xbean.scomp.idConstraint.constraint.OrderType.Item)get_store().find_element_user(ITEM$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "item" element
+     */
+    public int sizeOfItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ITEM$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "item" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setItemArray(xbean.scomp.idConstraint.constraint.OrderType.Item[] itemArray)
+    {
+        check_orphaned();
+        arraySetterHelper(itemArray, ITEM$2);
+    }
+    
+    /**
+     * Sets ith "item" element
+     */
+    public void setItemArray(int i, xbean.scomp.idConstraint.constraint.OrderType.Item item)
+    {
+        generatedSetterHelperImpl(item, ITEM$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "item" element
+     */
+    public xbean.scomp.idConstraint.constraint.OrderType.Item insertNewItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OrderType.Item target = null;
+            target = (xbean.scomp.idConstraint.constraint.OrderType.Item)get_store().insert_element_user(ITEM$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "item" element
+     */
+    public xbean.scomp.idConstraint.constraint.OrderType.Item addNewItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OrderType.Item target = null;
+            target = (xbean.scomp.idConstraint.constraint.OrderType.Item)get_store().add_element_user(ITEM$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "item" element
+     */
+    public void removeItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ITEM$2, i);
+        }
+    }
+    /**
+     * An XML item(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public static class ItemImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.OrderType.Item
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ItemImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName SKU$0 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "SKU");
+        private static final javax.xml.namespace.QName DEPTID$2 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "deptId");
+        
+        
+        /**
+         * Gets the "SKU" attribute
+         */
+        public java.lang.String getSKU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SKU$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SKU" attribute
+         */
+        public org.apache.xmlbeans.XmlToken xgetSKU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlToken target = null;
+                target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(SKU$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SKU" attribute
+         */
+        public boolean isSetSKU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(SKU$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "SKU" attribute
+         */
+        public void setSKU(java.lang.String sku)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SKU$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SKU$0);
+                }
+                target.setStringValue(sku);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SKU" attribute
+         */
+        public void xsetSKU(org.apache.xmlbeans.XmlToken sku)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlToken target = null;
+                target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(SKU$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(SKU$0);
+                }
+                target.set(sku);
+            }
+        }
+        
+        /**
+         * Unsets the "SKU" attribute
+         */
+        public void unsetSKU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(SKU$0);
+            }
+        }
+        
+        /**
+         * Gets the "deptId" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType getDeptId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(DEPTID$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "deptId" attribute
+         */
+        public boolean isSetDeptId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DEPTID$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "deptId" attribute
+         */
+        public void setDeptId(org.apache.xmlbeans.XmlAnySimpleType deptId)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(DEPTID$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(DEPTID$2);
+                }
+                target.set(deptId);
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty "deptId" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType addNewDeptId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(DEPTID$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "deptId" attribute
+         */
+        public void unsetDeptId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DEPTID$2);
+            }
+        }
+    }
+}
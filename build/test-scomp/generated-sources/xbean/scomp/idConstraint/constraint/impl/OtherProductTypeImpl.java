@@ -0,0 +1,270 @@
+/*
+ * XML Type:  OtherProductType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.OtherProductType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * An XML OtherProductType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public class OtherProductTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.OtherProductType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherProductTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "department");
+    private static final javax.xml.namespace.QName ID$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "id");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3355:
+                if (name.equals(ID$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 848184146:
+                if (name.equals(DEPARTMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "department" element
+     */
+    public xbean.scomp.idConstraint.constraint.OtherProductType.Department getDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OtherProductType.Department target = null;
+            target = (xbean.scomp.idConstraint.constraint.OtherProductType.Department)get_store().find_element_user(DEPARTMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "department" element
+     */
+    public boolean isSetDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPARTMENT$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "department" element
+     */
+    public void setDepartment(xbean.scomp.idConstraint.constraint.OtherProductType.Department department)
+    {
+        generatedSetterHelperImpl(department, DEPARTMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "department" element
+     */
+    public xbean.scomp.idConstraint.constraint.OtherProductType.Department addNewDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.OtherProductType.Department target = null;
+            target = (xbean.scomp.idConstraint.constraint.OtherProductType.Department)get_store().add_element_user(DEPARTMENT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "department" element
+     */
+    public void unsetDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPARTMENT$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "id" element
+     */
+    public java.lang.String getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" element
+     */
+    public org.apache.xmlbeans.XmlToken xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(ID$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ID$2);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" element
+     */
+    public void xsetId(org.apache.xmlbeans.XmlToken id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_element_user(ID$2);
+            }
+            target.set(id);
+        }
+    }
+    /**
+     * An XML department(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public static class DepartmentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.OtherProductType.Department
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DepartmentImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NAME$0 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "name");
+        
+        
+        /**
+         * Gets the "name" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "name" attribute
+         */
+        public boolean isSetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(NAME$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "name" attribute
+         */
+        public void setName(org.apache.xmlbeans.XmlAnySimpleType name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(NAME$0);
+                }
+                target.set(name);
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty "name" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType addNewName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(NAME$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        public void unsetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(NAME$0);
+            }
+        }
+    }
+}
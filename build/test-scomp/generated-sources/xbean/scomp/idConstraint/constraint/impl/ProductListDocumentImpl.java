@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: productList
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.ProductListDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * A document containing one productList(@http://xbean/scomp/idConstraint/Constraint) element.
+ *
+ * This is a complex type.
+ */
+public class ProductListDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.ProductListDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProductListDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRODUCTLIST$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "productList");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1491869139:
+                if (name.equals(PRODUCTLIST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "productList" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductListType getProductList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductListType target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductListType)get_store().find_element_user(PRODUCTLIST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "productList" element
+     */
+    public void setProductList(xbean.scomp.idConstraint.constraint.ProductListType productList)
+    {
+        generatedSetterHelperImpl(productList, PRODUCTLIST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "productList" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductListType addNewProductList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductListType target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductListType)get_store().add_element_user(PRODUCTLIST$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  ProductListType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.ProductListType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * An XML ProductListType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public class ProductListTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.ProductListType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProductListTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRODUCT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "product");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -309474065:
+                if (name.equals(PRODUCT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "product" elements
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType[] getProductArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PRODUCT$0, targetList);
+            xbean.scomp.idConstraint.constraint.ProductType[] result = new xbean.scomp.idConstraint.constraint.ProductType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "product" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType getProductArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType)get_store().find_element_user(PRODUCT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "product" element
+     */
+    public int sizeOfProductArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PRODUCT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "product" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setProductArray(xbean.scomp.idConstraint.constraint.ProductType[] productArray)
+    {
+        check_orphaned();
+        arraySetterHelper(productArray, PRODUCT$0);
+    }
+    
+    /**
+     * Sets ith "product" element
+     */
+    public void setProductArray(int i, xbean.scomp.idConstraint.constraint.ProductType product)
+    {
+        generatedSetterHelperImpl(product, PRODUCT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "product" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType insertNewProduct(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType)get_store().insert_element_user(PRODUCT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "product" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType addNewProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType)get_store().add_element_user(PRODUCT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "product" element
+     */
+    public void removeProduct(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PRODUCT$0, i);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * XML Type:  productType
+ * Namespace: http://xbean/scomp/idConstraint/Constraint
+ * Java type: xbean.scomp.idConstraint.constraint.ProductType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.idConstraint.constraint.impl;
+/**
+ * An XML productType(@http://xbean/scomp/idConstraint/Constraint).
+ *
+ * This is a complex type.
+ */
+public class ProductTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.ProductType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProductTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "department");
+    private static final javax.xml.namespace.QName ID$2 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "id");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3355:
+                if (name.equals(ID$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 848184146:
+                if (name.equals(DEPARTMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "department" elements
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType.Department[] getDepartmentArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPARTMENT$0, targetList);
+            xbean.scomp.idConstraint.constraint.ProductType.Department[] result = new xbean.scomp.idConstraint.constraint.ProductType.Department[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "department" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType.Department getDepartmentArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType.Department target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType.Department)get_store().find_element_user(DEPARTMENT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "department" element
+     */
+    public int sizeOfDepartmentArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPARTMENT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "department" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDepartmentArray(xbean.scomp.idConstraint.constraint.ProductType.Department[] departmentArray)
+    {
+        check_orphaned();
+        arraySetterHelper(departmentArray, DEPARTMENT$0);
+    }
+    
+    /**
+     * Sets ith "department" element
+     */
+    public void setDepartmentArray(int i, xbean.scomp.idConstraint.constraint.ProductType.Department department)
+    {
+        generatedSetterHelperImpl(department, DEPARTMENT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "department" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType.Department insertNewDepartment(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType.Department target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType.Department)get_store().insert_element_user(DEPARTMENT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "department" element
+     */
+    public xbean.scomp.idConstraint.constraint.ProductType.Department addNewDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.idConstraint.constraint.ProductType.Department target = null;
+            target = (xbean.scomp.idConstraint.constraint.ProductType.Department)get_store().add_element_user(DEPARTMENT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "department" element
+     */
+    public void removeDepartment(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPARTMENT$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "id" element
+     */
+    public java.lang.String getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" element
+     */
+    public org.apache.xmlbeans.XmlToken xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(ID$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ID$2);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" element
+     */
+    public void xsetId(org.apache.xmlbeans.XmlToken id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(ID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_element_user(ID$2);
+            }
+            target.set(id);
+        }
+    }
+    /**
+     * An XML department(@http://xbean/scomp/idConstraint/Constraint).
+     *
+     * This is a complex type.
+     */
+    public static class DepartmentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.idConstraint.constraint.ProductType.Department
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DepartmentImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NAME$0 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/idConstraint/Constraint", "name");
+        
+        
+        /**
+         * Gets the "name" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "name" attribute
+         */
+        public boolean isSetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(NAME$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "name" attribute
+         */
+        public void setName(org.apache.xmlbeans.XmlAnySimpleType name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(NAME$0);
+                }
+                target.set(name);
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty "name" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType addNewName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(NAME$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        public void unsetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(NAME$0);
+            }
+        }
+    }
+}
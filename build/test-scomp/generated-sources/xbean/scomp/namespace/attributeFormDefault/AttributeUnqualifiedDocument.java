@@ -0,0 +1,164 @@
+/*
+ * An XML document type.
+ * Localname: AttributeUnqualified
+ * Namespace: http://xbean/scomp/namespace/AttributeFormDefault
+ * Java type: xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeFormDefault;
+
+
+/**
+ * A document containing one AttributeUnqualified(@http://xbean/scomp/namespace/AttributeFormDefault) element.
+ *
+ * This is a complex type.
+ */
+public interface AttributeUnqualifiedDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttributeUnqualifiedDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("attributeunqualified277bdoctype");
+    
+    /**
+     * Gets the "AttributeUnqualified" element
+     */
+    xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified getAttributeUnqualified();
+    
+    /**
+     * Sets the "AttributeUnqualified" element
+     */
+    void setAttributeUnqualified(xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified attributeUnqualified);
+    
+    /**
+     * Appends and returns a new empty "AttributeUnqualified" element
+     */
+    xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified addNewAttributeUnqualified();
+    
+    /**
+     * An XML AttributeUnqualified(@http://xbean/scomp/namespace/AttributeFormDefault).
+     *
+     * This is a complex type.
+     */
+    public interface AttributeUnqualified extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttributeUnqualified.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("attributeunqualified4438elemtype");
+        
+        /**
+         * Gets the "LocalAttribute" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType getLocalAttribute();
+        
+        /**
+         * True if has "LocalAttribute" attribute
+         */
+        boolean isSetLocalAttribute();
+        
+        /**
+         * Sets the "LocalAttribute" attribute
+         */
+        void setLocalAttribute(org.apache.xmlbeans.XmlAnySimpleType localAttribute);
+        
+        /**
+         * Appends and returns a new empty "LocalAttribute" attribute
+         */
+        org.apache.xmlbeans.XmlAnySimpleType addNewLocalAttribute();
+        
+        /**
+         * Unsets the "LocalAttribute" attribute
+         */
+        void unsetLocalAttribute();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified newInstance() {
+              return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument newInstance() {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AttributeFormDefaultElt
+ * Namespace: http://xbean/scomp/namespace/AttributeFormDefault
+ * Java type: xbean.scomp.namespace.attributeFormDefault.AttributeFormDefaultEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeFormDefault.impl;
+/**
+ * A document containing one AttributeFormDefaultElt(@http://xbean/scomp/namespace/AttributeFormDefault) element.
+ *
+ * This is a complex type.
+ */
+public class AttributeFormDefaultEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeFormDefault.AttributeFormDefaultEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttributeFormDefaultEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTEFORMDEFAULTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeFormDefault", "AttributeFormDefaultElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1741510700:
+                if (name.equals(ATTRIBUTEFORMDEFAULTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttributeFormDefaultElt" element
+     */
+    public xbean.scomp.namespace.attributeFormDefault.ElementT getAttributeFormDefaultElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeFormDefault.ElementT target = null;
+            target = (xbean.scomp.namespace.attributeFormDefault.ElementT)get_store().find_element_user(ATTRIBUTEFORMDEFAULTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttributeFormDefaultElt" element
+     */
+    public void setAttributeFormDefaultElt(xbean.scomp.namespace.attributeFormDefault.ElementT attributeFormDefaultElt)
+    {
+        generatedSetterHelperImpl(attributeFormDefaultElt, ATTRIBUTEFORMDEFAULTELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttributeFormDefaultElt" element
+     */
+    public xbean.scomp.namespace.attributeFormDefault.ElementT addNewAttributeFormDefaultElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeFormDefault.ElementT target = null;
+            target = (xbean.scomp.namespace.attributeFormDefault.ElementT)get_store().add_element_user(ATTRIBUTEFORMDEFAULTELT$0);
+            return target;
+        }
+    }
+}
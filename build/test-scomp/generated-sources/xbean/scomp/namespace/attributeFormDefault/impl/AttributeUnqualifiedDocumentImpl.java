@@ -0,0 +1,173 @@
+/*
+ * An XML document type.
+ * Localname: AttributeUnqualified
+ * Namespace: http://xbean/scomp/namespace/AttributeFormDefault
+ * Java type: xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeFormDefault.impl;
+/**
+ * A document containing one AttributeUnqualified(@http://xbean/scomp/namespace/AttributeFormDefault) element.
+ *
+ * This is a complex type.
+ */
+public class AttributeUnqualifiedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttributeUnqualifiedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRIBUTEUNQUALIFIED$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeFormDefault", "AttributeUnqualified");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1573647879:
+                if (name.equals(ATTRIBUTEUNQUALIFIED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttributeUnqualified" element
+     */
+    public xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified getAttributeUnqualified()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified target = null;
+            target = (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified)get_store().find_element_user(ATTRIBUTEUNQUALIFIED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttributeUnqualified" element
+     */
+    public void setAttributeUnqualified(xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified attributeUnqualified)
+    {
+        generatedSetterHelperImpl(attributeUnqualified, ATTRIBUTEUNQUALIFIED$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttributeUnqualified" element
+     */
+    public xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified addNewAttributeUnqualified()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified target = null;
+            target = (xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified)get_store().add_element_user(ATTRIBUTEUNQUALIFIED$0);
+            return target;
+        }
+    }
+    /**
+     * An XML AttributeUnqualified(@http://xbean/scomp/namespace/AttributeFormDefault).
+     *
+     * This is a complex type.
+     */
+    public static class AttributeUnqualifiedImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeFormDefault.AttributeUnqualifiedDocument.AttributeUnqualified
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AttributeUnqualifiedImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LOCALATTRIBUTE$0 = 
+            new javax.xml.namespace.QName("", "LocalAttribute");
+        
+        
+        /**
+         * Gets the "LocalAttribute" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType getLocalAttribute()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(LOCALATTRIBUTE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "LocalAttribute" attribute
+         */
+        public boolean isSetLocalAttribute()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(LOCALATTRIBUTE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "LocalAttribute" attribute
+         */
+        public void setLocalAttribute(org.apache.xmlbeans.XmlAnySimpleType localAttribute)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(LOCALATTRIBUTE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(LOCALATTRIBUTE$0);
+                }
+                target.set(localAttribute);
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty "LocalAttribute" attribute
+         */
+        public org.apache.xmlbeans.XmlAnySimpleType addNewLocalAttribute()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlAnySimpleType target = null;
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(LOCALATTRIBUTE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "LocalAttribute" attribute
+         */
+        public void unsetLocalAttribute()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(LOCALATTRIBUTE$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * XML Type:  ElementT
+ * Namespace: http://xbean/scomp/namespace/AttributeFormDefault
+ * Java type: xbean.scomp.namespace.attributeFormDefault.ElementT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeFormDefault.impl;
+/**
+ * An XML ElementT(@http://xbean/scomp/namespace/AttributeFormDefault).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.namespace.attributeFormDefault.ElementT.
+ */
+public class ElementTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.namespace.attributeFormDefault.ElementT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected ElementTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALATTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeFormDefault", "localAttr");
+    
+    
+    /**
+     * Gets the "localAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType getLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(LOCALATTR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "localAttr" attribute
+     */
+    public boolean isSetLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LOCALATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "localAttr" attribute
+     */
+    public void setLocalAttr(org.apache.xmlbeans.XmlAnySimpleType localAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().find_attribute_user(LOCALATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(LOCALATTR$0);
+            }
+            target.set(localAttr);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "localAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlAnySimpleType addNewLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnySimpleType target = null;
+            target = (org.apache.xmlbeans.XmlAnySimpleType)get_store().add_attribute_user(LOCALATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "localAttr" attribute
+     */
+    public void unsetLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LOCALATTR$0);
+        }
+    }
+}
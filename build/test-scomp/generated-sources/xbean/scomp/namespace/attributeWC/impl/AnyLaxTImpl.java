@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AnyLaxT
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.AnyLaxT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * An XML AnyLaxT(@http://xbean/scomp/namespace/AttributeWC).
+ *
+ * This is a complex type.
+ */
+public class AnyLaxTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.AnyLaxT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyLaxTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
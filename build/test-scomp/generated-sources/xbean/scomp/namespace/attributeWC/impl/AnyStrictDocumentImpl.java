@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnyStrict
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.AnyStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one AnyStrict(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class AnyStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.AnyStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "AnyStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -584203339:
+                if (name.equals(ANYSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.AnyStrictT getAnyStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.AnyStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.AnyStrictT)get_store().find_element_user(ANYSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyStrict" element
+     */
+    public void setAnyStrict(xbean.scomp.namespace.attributeWC.AnyStrictT anyStrict)
+    {
+        generatedSetterHelperImpl(anyStrict, ANYSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.AnyStrictT addNewAnyStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.AnyStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.AnyStrictT)get_store().add_element_user(ANYSTRICT$0);
+            return target;
+        }
+    }
+}
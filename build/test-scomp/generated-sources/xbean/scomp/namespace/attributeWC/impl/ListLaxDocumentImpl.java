@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ListLax
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.ListLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one ListLax(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class ListLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.ListLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "ListLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1846600709:
+                if (name.equals(LISTLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListLax" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListLaxT getListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListLaxT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListLaxT)get_store().find_element_user(LISTLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListLax" element
+     */
+    public void setListLax(xbean.scomp.namespace.attributeWC.UriListLaxT listLax)
+    {
+        generatedSetterHelperImpl(listLax, LISTLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ListLax" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListLaxT addNewListLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListLaxT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListLaxT)get_store().add_element_user(LISTLAX$0);
+            return target;
+        }
+    }
+}
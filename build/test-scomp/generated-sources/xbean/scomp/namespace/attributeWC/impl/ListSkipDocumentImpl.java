@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ListSkip
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.ListSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one ListSkip(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class ListSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.ListSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "ListSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1410264925:
+                if (name.equals(LISTSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListSkip" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListSkipT getListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListSkipT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListSkipT)get_store().find_element_user(LISTSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListSkip" element
+     */
+    public void setListSkip(xbean.scomp.namespace.attributeWC.UriListSkipT listSkip)
+    {
+        generatedSetterHelperImpl(listSkip, LISTSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ListSkip" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListSkipT addNewListSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListSkipT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListSkipT)get_store().add_element_user(LISTSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ListStrict
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.ListStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one ListStrict(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class ListStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.ListStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "ListStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1936496345:
+                if (name.equals(LISTSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ListStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListStrictT getListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListStrictT)get_store().find_element_user(LISTSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ListStrict" element
+     */
+    public void setListStrict(xbean.scomp.namespace.attributeWC.UriListStrictT listStrict)
+    {
+        generatedSetterHelperImpl(listStrict, LISTSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ListStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.UriListStrictT addNewListStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.UriListStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.UriListStrictT)get_store().add_element_user(LISTSTRICT$0);
+            return target;
+        }
+    }
+}
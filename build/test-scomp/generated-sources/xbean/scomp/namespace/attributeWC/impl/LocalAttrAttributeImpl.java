@@ -0,0 +1,131 @@
+/*
+ * An XML attribute type.
+ * Localname: LocalAttr
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.LocalAttrAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one LocalAttr(@http://xbean/scomp/namespace/AttributeWC) attribute.
+ *
+ * This is a complex type.
+ */
+public class LocalAttrAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.LocalAttrAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalAttrAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALATTR$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "LocalAttr");
+    
+    
+    /**
+     * Gets the "LocalAttr" attribute
+     */
+    public int getLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(LOCALATTR$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOCALATTR$0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LocalAttr" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(LOCALATTR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "LocalAttr" attribute
+     */
+    public boolean isSetLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LOCALATTR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "LocalAttr" attribute
+     */
+    public void setLocalAttr(int localAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOCALATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LOCALATTR$0);
+            }
+            target.setIntValue(localAttr);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LocalAttr" attribute
+     */
+    public void xsetLocalAttr(org.apache.xmlbeans.XmlInt localAttr)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(LOCALATTR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(LOCALATTR$0);
+            }
+            target.set(localAttr);
+        }
+    }
+    
+    /**
+     * Unsets the "LocalAttr" attribute
+     */
+    public void unsetLocalAttr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LOCALATTR$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: LocalSkip
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.LocalSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one LocalSkip(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class LocalSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.LocalSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "LocalSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 798731114:
+                if (name.equals(LOCALSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocalSkip" element
+     */
+    public xbean.scomp.namespace.attributeWC.LocalSkipT getLocalSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.LocalSkipT target = null;
+            target = (xbean.scomp.namespace.attributeWC.LocalSkipT)get_store().find_element_user(LOCALSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocalSkip" element
+     */
+    public void setLocalSkip(xbean.scomp.namespace.attributeWC.LocalSkipT localSkip)
+    {
+        generatedSetterHelperImpl(localSkip, LOCALSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocalSkip" element
+     */
+    public xbean.scomp.namespace.attributeWC.LocalSkipT addNewLocalSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.LocalSkipT target = null;
+            target = (xbean.scomp.namespace.attributeWC.LocalSkipT)get_store().add_element_user(LOCALSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: LocalStrict
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.LocalStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one LocalStrict(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class LocalStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.LocalStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "LocalStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1209969164:
+                if (name.equals(LOCALSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocalStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.LocalStrictT getLocalStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.LocalStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.LocalStrictT)get_store().find_element_user(LOCALSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocalStrict" element
+     */
+    public void setLocalStrict(xbean.scomp.namespace.attributeWC.LocalStrictT localStrict)
+    {
+        generatedSetterHelperImpl(localStrict, LOCALSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocalStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.LocalStrictT addNewLocalStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.LocalStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.LocalStrictT)get_store().add_element_user(LOCALSTRICT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherStrict
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.OtherStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one OtherStrict(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class OtherStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.OtherStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "OtherStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -29432359:
+                if (name.equals(OTHERSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.OtherStrictT getOtherStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.OtherStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.OtherStrictT)get_store().find_element_user(OTHERSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherStrict" element
+     */
+    public void setOtherStrict(xbean.scomp.namespace.attributeWC.OtherStrictT otherStrict)
+    {
+        generatedSetterHelperImpl(otherStrict, OTHERSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.OtherStrictT addNewOtherStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.OtherStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.OtherStrictT)get_store().add_element_user(OTHERSTRICT$0);
+            return target;
+        }
+    }
+}
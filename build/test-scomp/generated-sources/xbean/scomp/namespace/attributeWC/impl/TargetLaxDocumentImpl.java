@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: TargetLax
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.TargetLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one TargetLax(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class TargetLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.TargetLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TargetLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TARGETLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "TargetLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1188373042:
+                if (name.equals(TARGETLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TargetLax" element
+     */
+    public xbean.scomp.namespace.attributeWC.TargetNSLaxT getTargetLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.TargetNSLaxT target = null;
+            target = (xbean.scomp.namespace.attributeWC.TargetNSLaxT)get_store().find_element_user(TARGETLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TargetLax" element
+     */
+    public void setTargetLax(xbean.scomp.namespace.attributeWC.TargetNSLaxT targetLax)
+    {
+        generatedSetterHelperImpl(targetLax, TARGETLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TargetLax" element
+     */
+    public xbean.scomp.namespace.attributeWC.TargetNSLaxT addNewTargetLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.TargetNSLaxT target = null;
+            target = (xbean.scomp.namespace.attributeWC.TargetNSLaxT)get_store().add_element_user(TARGETLAX$0);
+            return target;
+        }
+    }
+}
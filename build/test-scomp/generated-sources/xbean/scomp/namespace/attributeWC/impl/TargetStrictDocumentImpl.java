@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: TargetStrict
+ * Namespace: http://xbean/scomp/namespace/AttributeWC
+ * Java type: xbean.scomp.namespace.attributeWC.TargetStrictDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.attributeWC.impl;
+/**
+ * A document containing one TargetStrict(@http://xbean/scomp/namespace/AttributeWC) element.
+ *
+ * This is a complex type.
+ */
+public class TargetStrictDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.attributeWC.TargetStrictDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TargetStrictDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TARGETSTRICT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/AttributeWC", "TargetStrict");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -376250406:
+                if (name.equals(TARGETSTRICT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TargetStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.TargetNSStrictT getTargetStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.TargetNSStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.TargetNSStrictT)get_store().find_element_user(TARGETSTRICT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TargetStrict" element
+     */
+    public void setTargetStrict(xbean.scomp.namespace.attributeWC.TargetNSStrictT targetStrict)
+    {
+        generatedSetterHelperImpl(targetStrict, TARGETSTRICT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TargetStrict" element
+     */
+    public xbean.scomp.namespace.attributeWC.TargetNSStrictT addNewTargetStrict()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.attributeWC.TargetNSStrictT target = null;
+            target = (xbean.scomp.namespace.attributeWC.TargetNSStrictT)get_store().add_element_user(TARGETSTRICT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ElementFormDefaultElt
+ * Namespace: http://xbean/scomp/namespace/ElementFormDefault
+ * Java type: xbean.scomp.namespace.elementFormDefault.ElementFormDefaultEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementFormDefault.impl;
+/**
+ * A document containing one ElementFormDefaultElt(@http://xbean/scomp/namespace/ElementFormDefault) element.
+ *
+ * This is a complex type.
+ */
+public class ElementFormDefaultEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementFormDefault.ElementFormDefaultEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementFormDefaultEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMENTFORMDEFAULTELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementFormDefault", "ElementFormDefaultElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 170531980:
+                if (name.equals(ELEMENTFORMDEFAULTELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ElementFormDefaultElt" element
+     */
+    public xbean.scomp.namespace.elementFormDefault.ElementT getElementFormDefaultElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementFormDefault.ElementT target = null;
+            target = (xbean.scomp.namespace.elementFormDefault.ElementT)get_store().find_element_user(ELEMENTFORMDEFAULTELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ElementFormDefaultElt" element
+     */
+    public void setElementFormDefaultElt(xbean.scomp.namespace.elementFormDefault.ElementT elementFormDefaultElt)
+    {
+        generatedSetterHelperImpl(elementFormDefaultElt, ELEMENTFORMDEFAULTELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ElementFormDefaultElt" element
+     */
+    public xbean.scomp.namespace.elementFormDefault.ElementT addNewElementFormDefaultElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementFormDefault.ElementT target = null;
+            target = (xbean.scomp.namespace.elementFormDefault.ElementT)get_store().add_element_user(ELEMENTFORMDEFAULTELT$0);
+            return target;
+        }
+    }
+}
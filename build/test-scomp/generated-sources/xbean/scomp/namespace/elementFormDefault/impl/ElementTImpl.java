@@ -0,0 +1,80 @@
+/*
+ * XML Type:  ElementT
+ * Namespace: http://xbean/scomp/namespace/ElementFormDefault
+ * Java type: xbean.scomp.namespace.elementFormDefault.ElementT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementFormDefault.impl;
+/**
+ * An XML ElementT(@http://xbean/scomp/namespace/ElementFormDefault).
+ *
+ * This is a complex type.
+ */
+public class ElementTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementFormDefault.ElementT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHILDELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementFormDefault", "childElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1659483633:
+                if (name.equals(CHILDELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "childElt" element
+     */
+    public org.apache.xmlbeans.XmlObject getChildElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(CHILDELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "childElt" element
+     */
+    public void setChildElt(org.apache.xmlbeans.XmlObject childElt)
+    {
+        generatedSetterHelperImpl(childElt, CHILDELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "childElt" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewChildElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(CHILDELT$0);
+            return target;
+        }
+    }
+}
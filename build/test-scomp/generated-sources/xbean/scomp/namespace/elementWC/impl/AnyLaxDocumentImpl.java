@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnyLax
+ * Namespace: http://xbean/scomp/namespace/ElementWC
+ * Java type: xbean.scomp.namespace.elementWC.AnyLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementWC.impl;
+/**
+ * A document containing one AnyLax(@http://xbean/scomp/namespace/ElementWC) element.
+ *
+ * This is a complex type.
+ */
+public class AnyLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementWC.AnyLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementWC", "AnyLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1966162999:
+                if (name.equals(ANYLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyLax" element
+     */
+    public xbean.scomp.namespace.elementWC.AnyLaxT getAnyLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.AnyLaxT target = null;
+            target = (xbean.scomp.namespace.elementWC.AnyLaxT)get_store().find_element_user(ANYLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyLax" element
+     */
+    public void setAnyLax(xbean.scomp.namespace.elementWC.AnyLaxT anyLax)
+    {
+        generatedSetterHelperImpl(anyLax, ANYLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyLax" element
+     */
+    public xbean.scomp.namespace.elementWC.AnyLaxT addNewAnyLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.AnyLaxT target = null;
+            target = (xbean.scomp.namespace.elementWC.AnyLaxT)get_store().add_element_user(ANYLAX$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnySkip
+ * Namespace: http://xbean/scomp/namespace/ElementWC
+ * Java type: xbean.scomp.namespace.elementWC.AnySkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementWC.impl;
+/**
+ * A document containing one AnySkip(@http://xbean/scomp/namespace/ElementWC) element.
+ *
+ * This is a complex type.
+ */
+public class AnySkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementWC.AnySkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnySkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementWC", "AnySkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 821728619:
+                if (name.equals(ANYSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnySkip" element
+     */
+    public xbean.scomp.namespace.elementWC.AnySkipT getAnySkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.AnySkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.AnySkipT)get_store().find_element_user(ANYSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnySkip" element
+     */
+    public void setAnySkip(xbean.scomp.namespace.elementWC.AnySkipT anySkip)
+    {
+        generatedSetterHelperImpl(anySkip, ANYSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnySkip" element
+     */
+    public xbean.scomp.namespace.elementWC.AnySkipT addNewAnySkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.AnySkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.AnySkipT)get_store().add_element_user(ANYSKIP$0);
+            return target;
+        }
+    }
+}
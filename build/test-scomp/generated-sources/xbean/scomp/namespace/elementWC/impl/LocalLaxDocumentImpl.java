@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: LocalLax
+ * Namespace: http://xbean/scomp/namespace/ElementWC
+ * Java type: xbean.scomp.namespace.elementWC.LocalLaxDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementWC.impl;
+/**
+ * A document containing one LocalLax(@http://xbean/scomp/namespace/ElementWC) element.
+ *
+ * This is a complex type.
+ */
+public class LocalLaxDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementWC.LocalLaxDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalLaxDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALLAX$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementWC", "LocalLax");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1965421144:
+                if (name.equals(LOCALLAX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocalLax" element
+     */
+    public xbean.scomp.namespace.elementWC.LocalLaxT getLocalLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.LocalLaxT target = null;
+            target = (xbean.scomp.namespace.elementWC.LocalLaxT)get_store().find_element_user(LOCALLAX$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocalLax" element
+     */
+    public void setLocalLax(xbean.scomp.namespace.elementWC.LocalLaxT localLax)
+    {
+        generatedSetterHelperImpl(localLax, LOCALLAX$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocalLax" element
+     */
+    public xbean.scomp.namespace.elementWC.LocalLaxT addNewLocalLax()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.LocalLaxT target = null;
+            target = (xbean.scomp.namespace.elementWC.LocalLaxT)get_store().add_element_user(LOCALLAX$0);
+            return target;
+        }
+    }
+}
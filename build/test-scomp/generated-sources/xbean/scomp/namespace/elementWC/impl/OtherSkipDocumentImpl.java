@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: OtherSkip
+ * Namespace: http://xbean/scomp/namespace/ElementWC
+ * Java type: xbean.scomp.namespace.elementWC.OtherSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementWC.impl;
+/**
+ * A document containing one OtherSkip(@http://xbean/scomp/namespace/ElementWC) element.
+ *
+ * This is a complex type.
+ */
+public class OtherSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementWC.OtherSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OtherSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OTHERSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementWC", "OtherSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 58060943:
+                if (name.equals(OTHERSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OtherSkip" element
+     */
+    public xbean.scomp.namespace.elementWC.OtherSkipT getOtherSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.OtherSkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.OtherSkipT)get_store().find_element_user(OTHERSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OtherSkip" element
+     */
+    public void setOtherSkip(xbean.scomp.namespace.elementWC.OtherSkipT otherSkip)
+    {
+        generatedSetterHelperImpl(otherSkip, OTHERSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "OtherSkip" element
+     */
+    public xbean.scomp.namespace.elementWC.OtherSkipT addNewOtherSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.OtherSkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.OtherSkipT)get_store().add_element_user(OTHERSKIP$0);
+            return target;
+        }
+    }
+}
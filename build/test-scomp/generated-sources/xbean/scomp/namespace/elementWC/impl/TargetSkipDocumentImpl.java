@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: TargetSkip
+ * Namespace: http://xbean/scomp/namespace/ElementWC
+ * Java type: xbean.scomp.namespace.elementWC.TargetSkipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.namespace.elementWC.impl;
+/**
+ * A document containing one TargetSkip(@http://xbean/scomp/namespace/ElementWC) element.
+ *
+ * This is a complex type.
+ */
+public class TargetSkipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.namespace.elementWC.TargetSkipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TargetSkipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TARGETSKIP$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/namespace/ElementWC", "TargetSkip");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1814923568:
+                if (name.equals(TARGETSKIP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "TargetSkip" element
+     */
+    public xbean.scomp.namespace.elementWC.TargetNSSkipT getTargetSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.TargetNSSkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.TargetNSSkipT)get_store().find_element_user(TARGETSKIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TargetSkip" element
+     */
+    public void setTargetSkip(xbean.scomp.namespace.elementWC.TargetNSSkipT targetSkip)
+    {
+        generatedSetterHelperImpl(targetSkip, TARGETSKIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TargetSkip" element
+     */
+    public xbean.scomp.namespace.elementWC.TargetNSSkipT addNewTargetSkip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.namespace.elementWC.TargetNSSkipT target = null;
+            target = (xbean.scomp.namespace.elementWC.TargetNSSkipT)get_store().add_element_user(TARGETSKIP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * An XML document type.
+ * Localname: AttrGroupElt
+ * Namespace: http://xbean/scomp/redefine/AttrGroupRedefine
+ * Java type: xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.attrGroupRedefine;
+
+
+/**
+ * A document containing one AttrGroupElt(@http://xbean/scomp/redefine/AttrGroupRedefine) element.
+ *
+ * This is a complex type.
+ */
+public interface AttrGroupEltDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttrGroupEltDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("attrgroupelt81f9doctype");
+    
+    /**
+     * Gets the "AttrGroupElt" element
+     */
+    xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt getAttrGroupElt();
+    
+    /**
+     * Sets the "AttrGroupElt" element
+     */
+    void setAttrGroupElt(xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt attrGroupElt);
+    
+    /**
+     * Appends and returns a new empty "AttrGroupElt" element
+     */
+    xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt addNewAttrGroupElt();
+    
+    /**
+     * An XML AttrGroupElt(@http://xbean/scomp/redefine/AttrGroupRedefine).
+     *
+     * This is a complex type.
+     */
+    public interface AttrGroupElt extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AttrGroupElt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSCOMP").resolveHandle("attrgroupeltf85eelemtype");
+        
+        /**
+         * Gets the "attr1" attribute
+         */
+        java.lang.String getAttr1();
+        
+        /**
+         * Gets (as xml) the "attr1" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetAttr1();
+        
+        /**
+         * True if has "attr1" attribute
+         */
+        boolean isSetAttr1();
+        
+        /**
+         * Sets the "attr1" attribute
+         */
+        void setAttr1(java.lang.String attr1);
+        
+        /**
+         * Sets (as xml) the "attr1" attribute
+         */
+        void xsetAttr1(org.apache.xmlbeans.XmlString attr1);
+        
+        /**
+         * Unsets the "attr1" attribute
+         */
+        void unsetAttr1();
+        
+        /**
+         * Gets the "attr2a" attribute
+         */
+        java.util.Calendar getAttr2A();
+        
+        /**
+         * Gets (as xml) the "attr2a" attribute
+         */
+        org.apache.xmlbeans.XmlDate xgetAttr2A();
+        
+        /**
+         * True if has "attr2a" attribute
+         */
+        boolean isSetAttr2A();
+        
+        /**
+         * Sets the "attr2a" attribute
+         */
+        void setAttr2A(java.util.Calendar attr2A);
+        
+        /**
+         * Sets (as xml) the "attr2a" attribute
+         */
+        void xsetAttr2A(org.apache.xmlbeans.XmlDate attr2A);
+        
+        /**
+         * Unsets the "attr2a" attribute
+         */
+        void unsetAttr2A();
+        
+        /**
+         * Gets the "attr3" attribute
+         */
+        int getAttr3();
+        
+        /**
+         * Gets (as xml) the "attr3" attribute
+         */
+        org.apache.xmlbeans.XmlInt xgetAttr3();
+        
+        /**
+         * True if has "attr3" attribute
+         */
+        boolean isSetAttr3();
+        
+        /**
+         * Sets the "attr3" attribute
+         */
+        void setAttr3(int attr3);
+        
+        /**
+         * Sets (as xml) the "attr3" attribute
+         */
+        void xsetAttr3(org.apache.xmlbeans.XmlInt attr3);
+        
+        /**
+         * Unsets the "attr3" attribute
+         */
+        void unsetAttr3();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt newInstance() {
+              return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument newInstance() {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * An XML document type.
+ * Localname: AttrGroupElt
+ * Namespace: http://xbean/scomp/redefine/AttrGroupRedefine
+ * Java type: xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.attrGroupRedefine.impl;
+/**
+ * A document containing one AttrGroupElt(@http://xbean/scomp/redefine/AttrGroupRedefine) element.
+ *
+ * This is a complex type.
+ */
+public class AttrGroupEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AttrGroupEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRGROUPELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/redefine/AttrGroupRedefine", "AttrGroupElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1166354143:
+                if (name.equals(ATTRGROUPELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AttrGroupElt" element
+     */
+    public xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt getAttrGroupElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt target = null;
+            target = (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt)get_store().find_element_user(ATTRGROUPELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AttrGroupElt" element
+     */
+    public void setAttrGroupElt(xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt attrGroupElt)
+    {
+        generatedSetterHelperImpl(attrGroupElt, ATTRGROUPELT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AttrGroupElt" element
+     */
+    public xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt addNewAttrGroupElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt target = null;
+            target = (xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt)get_store().add_element_user(ATTRGROUPELT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML AttrGroupElt(@http://xbean/scomp/redefine/AttrGroupRedefine).
+     *
+     * This is a complex type.
+     */
+    public static class AttrGroupEltImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.redefine.attrGroupRedefine.AttrGroupEltDocument.AttrGroupElt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AttrGroupEltImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ATTR1$0 = 
+            new javax.xml.namespace.QName("", "attr1");
+        private static final javax.xml.namespace.QName ATTR2A$2 = 
+            new javax.xml.namespace.QName("", "attr2a");
+        private static final javax.xml.namespace.QName ATTR3$4 = 
+            new javax.xml.namespace.QName("", "attr3");
+        
+        
+        /**
+         * Gets the "attr1" attribute
+         */
+        public java.lang.String getAttr1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR1$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "attr1" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetAttr1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTR1$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "attr1" attribute
+         */
+        public boolean isSetAttr1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ATTR1$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "attr1" attribute
+         */
+        public void setAttr1(java.lang.String attr1)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR1$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTR1$0);
+                }
+                target.setStringValue(attr1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "attr1" attribute
+         */
+        public void xsetAttr1(org.apache.xmlbeans.XmlString attr1)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTR1$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTR1$0);
+                }
+                target.set(attr1);
+            }
+        }
+        
+        /**
+         * Unsets the "attr1" attribute
+         */
+        public void unsetAttr1()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ATTR1$0);
+            }
+        }
+        
+        /**
+         * Gets the "attr2a" attribute
+         */
+        public java.util.Calendar getAttr2A()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR2A$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "attr2a" attribute
+         */
+        public org.apache.xmlbeans.XmlDate xgetAttr2A()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ATTR2A$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "attr2a" attribute
+         */
+        public boolean isSetAttr2A()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ATTR2A$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "attr2a" attribute
+         */
+        public void setAttr2A(java.util.Calendar attr2A)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR2A$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTR2A$2);
+                }
+                target.setCalendarValue(attr2A);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "attr2a" attribute
+         */
+        public void xsetAttr2A(org.apache.xmlbeans.XmlDate attr2A)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ATTR2A$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(ATTR2A$2);
+                }
+                target.set(attr2A);
+            }
+        }
+        
+        /**
+         * Unsets the "attr2a" attribute
+         */
+        public void unsetAttr2A()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ATTR2A$2);
+            }
+        }
+        
+        /**
+         * Gets the "attr3" attribute
+         */
+        public int getAttr3()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(ATTR3$4, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR3$4);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "attr3" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetAttr3()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ATTR3$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "attr3" attribute
+         */
+        public boolean isSetAttr3()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ATTR3$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "attr3" attribute
+         */
+        public void setAttr3(int attr3)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR3$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTR3$4);
+                }
+                target.setIntValue(attr3);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "attr3" attribute
+         */
+        public void xsetAttr3(org.apache.xmlbeans.XmlInt attr3)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ATTR3$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(ATTR3$4);
+                }
+                target.set(attr3);
+            }
+        }
+        
+        /**
+         * Unsets the "attr3" attribute
+         */
+        public void unsetAttr3()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ATTR3$4);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ColorT
+ * Namespace: http://xbean/scomp/redefine/SimpleRedefined
+ * Java type: xbean.scomp.redefine.simpleRedefined.ColorT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.simpleRedefined.impl;
+/**
+ * An XML ColorT(@http://xbean/scomp/redefine/SimpleRedefined).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.redefine.simpleRedefined.ColorT.
+ */
+public class ColorTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.redefine.simpleRedefined.ColorT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ColorTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ColorTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
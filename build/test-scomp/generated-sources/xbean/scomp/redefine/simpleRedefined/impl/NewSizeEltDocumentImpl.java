@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: NewSizeElt
+ * Namespace: http://xbean/scomp/redefine/SimpleRedefined
+ * Java type: xbean.scomp.redefine.simpleRedefined.NewSizeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.simpleRedefined.impl;
+/**
+ * A document containing one NewSizeElt(@http://xbean/scomp/redefine/SimpleRedefined) element.
+ *
+ * This is a complex type.
+ */
+public class NewSizeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.redefine.simpleRedefined.NewSizeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NewSizeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NEWSIZEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/redefine/SimpleRedefined", "NewSizeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 398744396:
+                if (name.equals(NEWSIZEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NewSizeElt" element
+     */
+    public int getNewSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(NEWSIZEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEWSIZEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NewSizeElt" element
+     */
+    public xbean.scomp.redefine.simpleRedefined.SizeT xgetNewSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.SizeT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().find_element_user(NEWSIZEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NewSizeElt" element
+     */
+    public void setNewSizeElt(int newSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEWSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NEWSIZEELT$0);
+            }
+            target.setIntValue(newSizeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NewSizeElt" element
+     */
+    public void xsetNewSizeElt(xbean.scomp.redefine.simpleRedefined.SizeT newSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.SizeT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().find_element_user(NEWSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().add_element_user(NEWSIZEELT$0);
+            }
+            target.set(newSizeElt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: OldColorElt
+ * Namespace: http://xbean/scomp/redefine/SimpleRedefined
+ * Java type: xbean.scomp.redefine.simpleRedefined.OldColorEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.simpleRedefined.impl;
+/**
+ * A document containing one OldColorElt(@http://xbean/scomp/redefine/SimpleRedefined) element.
+ *
+ * This is a complex type.
+ */
+public class OldColorEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.redefine.simpleRedefined.OldColorEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OldColorEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OLDCOLORELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/redefine/SimpleRedefined", "OldColorElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -894884495:
+                if (name.equals(OLDCOLORELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OldColorElt" element
+     */
+    public java.lang.String getOldColorElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OLDCOLORELT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "OldColorElt" element
+     */
+    public xbean.scomp.redefine.simpleRedefined.ColorT xgetOldColorElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.ColorT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.ColorT)get_store().find_element_user(OLDCOLORELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OldColorElt" element
+     */
+    public void setOldColorElt(java.lang.String oldColorElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OLDCOLORELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OLDCOLORELT$0);
+            }
+            target.setStringValue(oldColorElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "OldColorElt" element
+     */
+    public void xsetOldColorElt(xbean.scomp.redefine.simpleRedefined.ColorT oldColorElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.ColorT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.ColorT)get_store().find_element_user(OLDCOLORELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.redefine.simpleRedefined.ColorT)get_store().add_element_user(OLDCOLORELT$0);
+            }
+            target.set(oldColorElt);
+        }
+    }
+}
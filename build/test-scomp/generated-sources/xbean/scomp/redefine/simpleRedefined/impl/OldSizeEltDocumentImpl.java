@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: OldSizeElt
+ * Namespace: http://xbean/scomp/redefine/SimpleRedefined
+ * Java type: xbean.scomp.redefine.simpleRedefined.OldSizeEltDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.simpleRedefined.impl;
+/**
+ * A document containing one OldSizeElt(@http://xbean/scomp/redefine/SimpleRedefined) element.
+ *
+ * This is a complex type.
+ */
+public class OldSizeEltDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.redefine.simpleRedefined.OldSizeEltDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OldSizeEltDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName OLDSIZEELT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/redefine/SimpleRedefined", "OldSizeElt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1681293541:
+                if (name.equals(OLDSIZEELT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "OldSizeElt" element
+     */
+    public int getOldSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(OLDSIZEELT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OLDSIZEELT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "OldSizeElt" element
+     */
+    public xbean.scomp.redefine.simpleRedefined.SizeT xgetOldSizeElt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.SizeT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().find_element_user(OLDSIZEELT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "OldSizeElt" element
+     */
+    public void setOldSizeElt(int oldSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OLDSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OLDSIZEELT$0);
+            }
+            target.setIntValue(oldSizeElt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "OldSizeElt" element
+     */
+    public void xsetOldSizeElt(xbean.scomp.redefine.simpleRedefined.SizeT oldSizeElt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.redefine.simpleRedefined.SizeT target = null;
+            target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().find_element_user(OLDSIZEELT$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.redefine.simpleRedefined.SizeT)get_store().add_element_user(OLDSIZEELT$0);
+            }
+            target.set(oldSizeElt);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  SizeT
+ * Namespace: http://xbean/scomp/redefine/SimpleRedefined
+ * Java type: xbean.scomp.redefine.simpleRedefined.SizeT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.redefine.simpleRedefined.impl;
+/**
+ * An XML SizeT(@http://xbean/scomp/redefine/SimpleRedefined).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.redefine.simpleRedefined.SizeT.
+ */
+public class SizeTImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xbean.scomp.redefine.simpleRedefined.SizeT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SizeTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SizeTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
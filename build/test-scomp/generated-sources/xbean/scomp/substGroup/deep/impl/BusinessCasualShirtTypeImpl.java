@@ -0,0 +1,108 @@
+/*
+ * XML Type:  businessCasualShirtType
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.BusinessCasualShirtType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML businessCasualShirtType(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is a complex type.
+ */
+public class BusinessCasualShirtTypeImpl extends xbean.scomp.substGroup.deep.impl.BusinessShirtTypeImpl implements xbean.scomp.substGroup.deep.BusinessCasualShirtType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BusinessCasualShirtTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName POKADOTCOLOR$0 = 
+        new javax.xml.namespace.QName("", "pokadotColor");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2094935505:
+                if (name.equals(POKADOTCOLOR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "pokadotColor" element
+     */
+    public java.lang.String getPokadotColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POKADOTCOLOR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "pokadotColor" element
+     */
+    public xbean.scomp.substGroup.deep.FuncolorType xgetPokadotColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.FuncolorType target = null;
+            target = (xbean.scomp.substGroup.deep.FuncolorType)get_store().find_element_user(POKADOTCOLOR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "pokadotColor" element
+     */
+    public void setPokadotColor(java.lang.String pokadotColor)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POKADOTCOLOR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(POKADOTCOLOR$0);
+            }
+            target.setStringValue(pokadotColor);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "pokadotColor" element
+     */
+    public void xsetPokadotColor(xbean.scomp.substGroup.deep.FuncolorType pokadotColor)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.FuncolorType target = null;
+            target = (xbean.scomp.substGroup.deep.FuncolorType)get_store().find_element_user(POKADOTCOLOR$0, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.FuncolorType)get_store().add_element_user(POKADOTCOLOR$0);
+            }
+            target.set(pokadotColor);
+        }
+    }
+}
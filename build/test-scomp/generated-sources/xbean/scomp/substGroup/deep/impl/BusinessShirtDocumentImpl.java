@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: businessShirt
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.BusinessShirtDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * A document containing one businessShirt(@http://xbean/scomp/substGroup/Deep) element.
+ *
+ * This is a complex type.
+ */
+public class BusinessShirtDocumentImpl extends xbean.scomp.substGroup.deep.impl.ShirtDocumentImpl implements xbean.scomp.substGroup.deep.BusinessShirtDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BusinessShirtDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BUSINESSSHIRT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "businessShirt");
+    private static final org.apache.xmlbeans.QNameSet BUSINESSSHIRT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "casualBShirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "businessShirt"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 618632726:
+                if (name.equals(BUSINESSSHIRT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "businessShirt" element
+     */
+    public xbean.scomp.substGroup.deep.ShirtType getBusinessShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().find_element_user(BUSINESSSHIRT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "businessShirt" element
+     */
+    public void setBusinessShirt(xbean.scomp.substGroup.deep.ShirtType businessShirt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().find_element_user(BUSINESSSHIRT$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.ShirtType)get_store().add_element_user(BUSINESSSHIRT$0);
+            }
+            target.set(businessShirt);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "businessShirt" element
+     */
+    public xbean.scomp.substGroup.deep.ShirtType addNewBusinessShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().add_element_user(BUSINESSSHIRT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  businessShirtType
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.BusinessShirtType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML businessShirtType(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is a complex type.
+ */
+public class BusinessShirtTypeImpl extends xbean.scomp.substGroup.deep.impl.ShirtTypeImpl implements xbean.scomp.substGroup.deep.BusinessShirtType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BusinessShirtTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: casualBShirt
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.CasualBShirtDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * A document containing one casualBShirt(@http://xbean/scomp/substGroup/Deep) element.
+ *
+ * This is a complex type.
+ */
+public class CasualBShirtDocumentImpl extends xbean.scomp.substGroup.deep.impl.BusinessShirtDocumentImpl implements xbean.scomp.substGroup.deep.CasualBShirtDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CasualBShirtDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CASUALBSHIRT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "casualBShirt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 125080063:
+                if (name.equals(CASUALBSHIRT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "casualBShirt" element
+     */
+    public xbean.scomp.substGroup.deep.BusinessCasualShirtType getCasualBShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.BusinessCasualShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.BusinessCasualShirtType)get_store().find_element_user(CASUALBSHIRT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "casualBShirt" element
+     */
+    public void setCasualBShirt(xbean.scomp.substGroup.deep.BusinessCasualShirtType casualBShirt)
+    {
+        generatedSetterHelperImpl(casualBShirt, CASUALBSHIRT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "casualBShirt" element
+     */
+    public xbean.scomp.substGroup.deep.BusinessCasualShirtType addNewCasualBShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.BusinessCasualShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.BusinessCasualShirtType)get_store().add_element_user(CASUALBSHIRT$0);
+            return target;
+        }
+    }
+}
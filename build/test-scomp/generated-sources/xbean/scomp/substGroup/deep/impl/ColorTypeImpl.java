@@ -0,0 +1,27 @@
+/*
+ * XML Type:  colorType
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.ColorType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML colorType(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.substGroup.deep.ColorType.
+ */
+public class ColorTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.substGroup.deep.ColorType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ColorTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ColorTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
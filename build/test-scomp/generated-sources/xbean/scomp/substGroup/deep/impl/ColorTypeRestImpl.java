@@ -0,0 +1,27 @@
+/*
+ * XML Type:  colorTypeRest
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.ColorTypeRest
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML colorTypeRest(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.substGroup.deep.ColorTypeRest.
+ */
+public class ColorTypeRestImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.substGroup.deep.ColorTypeRest
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ColorTypeRestImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ColorTypeRestImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  funcolorType
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.FuncolorType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML funcolorType(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.substGroup.deep.FuncolorType.
+ */
+public class FuncolorTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.substGroup.deep.FuncolorType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FuncolorTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected FuncolorTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
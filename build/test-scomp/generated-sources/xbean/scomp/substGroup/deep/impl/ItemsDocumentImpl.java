@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: items
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.ItemsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * A document containing one items(@http://xbean/scomp/substGroup/Deep) element.
+ *
+ * This is a complex type.
+ */
+public class ItemsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.deep.ItemsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ITEMS$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "items");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 100526016:
+                if (name.equals(ITEMS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "items" element
+     */
+    public xbean.scomp.substGroup.deep.ItemType getItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ItemType target = null;
+            target = (xbean.scomp.substGroup.deep.ItemType)get_store().find_element_user(ITEMS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "items" element
+     */
+    public void setItems(xbean.scomp.substGroup.deep.ItemType items)
+    {
+        generatedSetterHelperImpl(items, ITEMS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "items" element
+     */
+    public xbean.scomp.substGroup.deep.ItemType addNewItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ItemType target = null;
+            target = (xbean.scomp.substGroup.deep.ItemType)get_store().add_element_user(ITEMS$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * An XML document type.
+ * Localname: product
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.ProductDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * A document containing one product(@http://xbean/scomp/substGroup/Deep) element.
+ *
+ * This is a complex type.
+ */
+public class ProductDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.deep.ProductDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProductDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRODUCT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "product");
+    private static final org.apache.xmlbeans.QNameSet PRODUCT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Block", "beachumbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "baseballhat"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "shirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "beachumbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "casualBShirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "hat"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "businessShirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Block", "businessShirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Block", "casualBShirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "beachumbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Block", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "product"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "shirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Deep", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "businessshirt"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -309474065:
+                if (name.equals(PRODUCT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "product" element
+     */
+    public xbean.scomp.substGroup.deep.ProductType getProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().find_element_user(PRODUCT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "product" element
+     */
+    public void setProduct(xbean.scomp.substGroup.deep.ProductType product)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().find_element_user(PRODUCT$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.ProductType)get_store().add_element_user(PRODUCT$0);
+            }
+            target.set(product);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "product" element
+     */
+    public xbean.scomp.substGroup.deep.ProductType addNewProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().add_element_user(PRODUCT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  shirtType
+ * Namespace: http://xbean/scomp/substGroup/Deep
+ * Java type: xbean.scomp.substGroup.deep.ShirtType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.deep.impl;
+/**
+ * An XML shirtType(@http://xbean/scomp/substGroup/Deep).
+ *
+ * This is a complex type.
+ */
+public class ShirtTypeImpl extends xbean.scomp.substGroup.deep.impl.ProductTypeImpl implements xbean.scomp.substGroup.deep.ShirtType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShirtTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIZE$0 = 
+        new javax.xml.namespace.QName("", "size");
+    private static final javax.xml.namespace.QName COLOR$2 = 
+        new javax.xml.namespace.QName("", "color");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3530753:
+                if (name.equals(SIZE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 94842723:
+                if (name.equals(COLOR$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "size" element
+     */
+    public java.math.BigInteger getSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "size" element
+     */
+    public org.apache.xmlbeans.XmlPositiveInteger xgetSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(SIZE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "size" element
+     */
+    public void setSize(java.math.BigInteger size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIZE$0);
+            }
+            target.setBigIntegerValue(size);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "size" element
+     */
+    public void xsetSize(org.apache.xmlbeans.XmlPositiveInteger size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().add_element_user(SIZE$0);
+            }
+            target.set(size);
+        }
+    }
+    
+    /**
+     * Gets the "color" element
+     */
+    public java.lang.String getColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COLOR$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "color" element
+     */
+    public xbean.scomp.substGroup.deep.ColorType xgetColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ColorType target = null;
+            target = (xbean.scomp.substGroup.deep.ColorType)get_store().find_element_user(COLOR$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "color" element
+     */
+    public void setColor(java.lang.String color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COLOR$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COLOR$2);
+            }
+            target.setStringValue(color);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "color" element
+     */
+    public void xsetColor(xbean.scomp.substGroup.deep.ColorType color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ColorType target = null;
+            target = (xbean.scomp.substGroup.deep.ColorType)get_store().find_element_user(COLOR$2, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.ColorType)get_store().add_element_user(COLOR$2);
+            }
+            target.set(color);
+        }
+    }
+}
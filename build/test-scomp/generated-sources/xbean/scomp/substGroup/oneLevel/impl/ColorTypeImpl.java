@@ -0,0 +1,27 @@
+/*
+ * XML Type:  colorType
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.ColorType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * An XML colorType(@http://xbean/scomp/substGroup/OneLevel).
+ *
+ * This is an atomic type that is a restriction of xbean.scomp.substGroup.oneLevel.ColorType.
+ */
+public class ColorTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.substGroup.oneLevel.ColorType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ColorTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ColorTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
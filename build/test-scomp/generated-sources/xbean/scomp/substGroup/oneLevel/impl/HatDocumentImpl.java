@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: hat
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.HatDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * A document containing one hat(@http://xbean/scomp/substGroup/OneLevel) element.
+ *
+ * This is a complex type.
+ */
+public class HatDocumentImpl extends xbean.scomp.substGroup.oneLevel.impl.ProductDocumentImpl implements xbean.scomp.substGroup.oneLevel.HatDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HatDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HAT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "hat");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 103067:
+                if (name.equals(HAT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "hat" element
+     */
+    public xbean.scomp.substGroup.oneLevel.HatType getHat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.HatType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.HatType)get_store().find_element_user(HAT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "hat" element
+     */
+    public void setHat(xbean.scomp.substGroup.oneLevel.HatType hat)
+    {
+        generatedSetterHelperImpl(hat, HAT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "hat" element
+     */
+    public xbean.scomp.substGroup.oneLevel.HatType addNewHat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.HatType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.HatType)get_store().add_element_user(HAT$0);
+            return target;
+        }
+    }
+}
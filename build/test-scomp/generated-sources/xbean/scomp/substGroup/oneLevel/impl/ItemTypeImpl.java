@@ -0,0 +1,159 @@
+/*
+ * XML Type:  ItemType
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.ItemType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * An XML ItemType(@http://xbean/scomp/substGroup/OneLevel).
+ *
+ * This is a complex type.
+ */
+public class ItemTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.oneLevel.ItemType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRODUCT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "product");
+    private static final org.apache.xmlbeans.QNameSet PRODUCT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "hat"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "product"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "shirt"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -309474065:
+                if (name.equals(PRODUCT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "product" elements
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType[] getProductArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PRODUCT$1, targetList);
+            xbean.scomp.substGroup.oneLevel.ProductType[] result = new xbean.scomp.substGroup.oneLevel.ProductType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "product" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType getProductArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().find_element_user(PRODUCT$1, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "product" element
+     */
+    public int sizeOfProductArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PRODUCT$1);
+        }
+    }
+    
+    /**
+     * Sets array of all "product" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setProductArray(xbean.scomp.substGroup.oneLevel.ProductType[] productArray)
+    {
+        check_orphaned();
+        arraySetterHelper(productArray, PRODUCT$0, PRODUCT$1);
+    }
+    
+    /**
+     * Sets ith "product" element
+     */
+    public void setProductArray(int i, xbean.scomp.substGroup.oneLevel.ProductType product)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().find_element_user(PRODUCT$1, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(product);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "product" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType insertNewProduct(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().insert_element_user(PRODUCT$1, PRODUCT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "product" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType addNewProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().add_element_user(PRODUCT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "product" element
+     */
+    public void removeProduct(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PRODUCT$1, i);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * An XML document type.
+ * Localname: product
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.ProductDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * A document containing one product(@http://xbean/scomp/substGroup/OneLevel) element.
+ *
+ * This is a complex type.
+ */
+public class ProductDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.oneLevel.ProductDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProductDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRODUCT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "product");
+    private static final org.apache.xmlbeans.QNameSet PRODUCT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "hat"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "product"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "shirt"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -309474065:
+                if (name.equals(PRODUCT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "product" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType getProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().find_element_user(PRODUCT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "product" element
+     */
+    public void setProduct(xbean.scomp.substGroup.oneLevel.ProductType product)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().find_element_user(PRODUCT$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().add_element_user(PRODUCT$0);
+            }
+            target.set(product);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "product" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType addNewProduct()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().add_element_user(PRODUCT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: shirt
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.ShirtDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * A document containing one shirt(@http://xbean/scomp/substGroup/OneLevel) element.
+ *
+ * This is a complex type.
+ */
+public class ShirtDocumentImpl extends xbean.scomp.substGroup.oneLevel.impl.ProductDocumentImpl implements xbean.scomp.substGroup.oneLevel.ShirtDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShirtDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIRT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "shirt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 109407734:
+                if (name.equals(SHIRT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "shirt" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ShirtType getShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ShirtType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ShirtType)get_store().find_element_user(SHIRT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "shirt" element
+     */
+    public void setShirt(xbean.scomp.substGroup.oneLevel.ShirtType shirt)
+    {
+        generatedSetterHelperImpl(shirt, SHIRT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "shirt" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ShirtType addNewShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ShirtType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ShirtType)get_store().add_element_user(SHIRT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: umbrella
+ * Namespace: http://xbean/scomp/substGroup/OneLevel
+ * Java type: xbean.scomp.substGroup.oneLevel.UmbrellaDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.oneLevel.impl;
+/**
+ * A document containing one umbrella(@http://xbean/scomp/substGroup/OneLevel) element.
+ *
+ * This is a complex type.
+ */
+public class UmbrellaDocumentImpl extends xbean.scomp.substGroup.oneLevel.impl.ProductDocumentImpl implements xbean.scomp.substGroup.oneLevel.UmbrellaDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UmbrellaDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UMBRELLA$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/OneLevel", "umbrella");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1381913276:
+                if (name.equals(UMBRELLA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "umbrella" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType getUmbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().find_element_user(UMBRELLA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "umbrella" element
+     */
+    public void setUmbrella(xbean.scomp.substGroup.oneLevel.ProductType umbrella)
+    {
+        generatedSetterHelperImpl(umbrella, UMBRELLA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "umbrella" element
+     */
+    public xbean.scomp.substGroup.oneLevel.ProductType addNewUmbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.oneLevel.ProductType target = null;
+            target = (xbean.scomp.substGroup.oneLevel.ProductType)get_store().add_element_user(UMBRELLA$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  AbstractFoo
+ * Namespace: http://xbean/scomp/substGroup/UserAbstract
+ * Java type: xbean.scomp.substGroup.userAbstract.AbstractFoo
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userAbstract.impl;
+/**
+ * An XML AbstractFoo(@http://xbean/scomp/substGroup/UserAbstract).
+ *
+ * This is a complex type.
+ */
+public class AbstractFooImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userAbstract.AbstractFoo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AbstractFooImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  Bar
+ * Namespace: http://xbean/scomp/substGroup/UserAbstract
+ * Java type: xbean.scomp.substGroup.userAbstract.Bar
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userAbstract.impl;
+/**
+ * An XML Bar(@http://xbean/scomp/substGroup/UserAbstract).
+ *
+ * This is a complex type.
+ */
+public class BarImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userAbstract.Bar
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BarImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FOO$0 = 
+        new javax.xml.namespace.QName("", "foo");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 101574:
+                if (name.equals(FOO$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "foo" elements
+     */
+    public xbean.scomp.substGroup.userAbstract.AbstractFoo[] getFooArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(FOO$0, targetList);
+            xbean.scomp.substGroup.userAbstract.AbstractFoo[] result = new xbean.scomp.substGroup.userAbstract.AbstractFoo[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "foo" element
+     */
+    public xbean.scomp.substGroup.userAbstract.AbstractFoo getFooArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userAbstract.AbstractFoo target = null;
+            target = (xbean.scomp.substGroup.userAbstract.AbstractFoo)get_store().find_element_user(FOO$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "foo" element
+     */
+    public int sizeOfFooArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FOO$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "foo" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setFooArray(xbean.scomp.substGroup.userAbstract.AbstractFoo[] fooArray)
+    {
+        check_orphaned();
+        arraySetterHelper(fooArray, FOO$0);
+    }
+    
+    /**
+     * Sets ith "foo" element
+     */
+    public void setFooArray(int i, xbean.scomp.substGroup.userAbstract.AbstractFoo foo)
+    {
+        generatedSetterHelperImpl(foo, FOO$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "foo" element
+     */
+    public xbean.scomp.substGroup.userAbstract.AbstractFoo insertNewFoo(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userAbstract.AbstractFoo target = null;
+            target = (xbean.scomp.substGroup.userAbstract.AbstractFoo)get_store().insert_element_user(FOO$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "foo" element
+     */
+    public xbean.scomp.substGroup.userAbstract.AbstractFoo addNewFoo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userAbstract.AbstractFoo target = null;
+            target = (xbean.scomp.substGroup.userAbstract.AbstractFoo)get_store().add_element_user(FOO$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "foo" element
+     */
+    public void removeFoo(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FOO$0, i);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  GenericFoo
+ * Namespace: http://xbean/scomp/substGroup/UserAbstract
+ * Java type: xbean.scomp.substGroup.userAbstract.GenericFoo
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userAbstract.impl;
+/**
+ * An XML GenericFoo(@http://xbean/scomp/substGroup/UserAbstract).
+ *
+ * This is a complex type.
+ */
+public class GenericFooImpl extends xbean.scomp.substGroup.userAbstract.impl.AbstractFooImpl implements xbean.scomp.substGroup.userAbstract.GenericFoo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GenericFooImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Root
+ * Namespace: http://xbean/scomp/substGroup/UserAbstract
+ * Java type: xbean.scomp.substGroup.userAbstract.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userAbstract.impl;
+/**
+ * A document containing one Root(@http://xbean/scomp/substGroup/UserAbstract) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userAbstract.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserAbstract", "Root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2553090:
+                if (name.equals(ROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Root" element
+     */
+    public xbean.scomp.substGroup.userAbstract.Bar getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userAbstract.Bar target = null;
+            target = (xbean.scomp.substGroup.userAbstract.Bar)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Root" element
+     */
+    public void setRoot(xbean.scomp.substGroup.userAbstract.Bar root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Root" element
+     */
+    public xbean.scomp.substGroup.userAbstract.Bar addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userAbstract.Bar target = null;
+            target = (xbean.scomp.substGroup.userAbstract.Bar)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+}
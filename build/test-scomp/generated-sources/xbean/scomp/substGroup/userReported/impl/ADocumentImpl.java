@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: a
+ * Namespace: http://xbean/scomp/substGroup/UserReported
+ * Java type: xbean.scomp.substGroup.userReported.ADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userReported.impl;
+/**
+ * A document containing one a(@http://xbean/scomp/substGroup/UserReported) element.
+ *
+ * This is a complex type.
+ */
+public class ADocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userReported.ADocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ADocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "a");
+    private static final org.apache.xmlbeans.QNameSet A$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "b"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "a"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "a" element
+     */
+    public xbean.scomp.substGroup.userReported.T getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.T target = null;
+            target = (xbean.scomp.substGroup.userReported.T)get_store().find_element_user(A$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a" element
+     */
+    public void setA(xbean.scomp.substGroup.userReported.T a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.T target = null;
+            target = (xbean.scomp.substGroup.userReported.T)get_store().find_element_user(A$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.userReported.T)get_store().add_element_user(A$0);
+            }
+            target.set(a);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "a" element
+     */
+    public xbean.scomp.substGroup.userReported.T addNewA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.T target = null;
+            target = (xbean.scomp.substGroup.userReported.T)get_store().add_element_user(A$0);
+            return target;
+        }
+    }
+}
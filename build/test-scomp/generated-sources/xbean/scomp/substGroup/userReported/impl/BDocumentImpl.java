@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: b
+ * Namespace: http://xbean/scomp/substGroup/UserReported
+ * Java type: xbean.scomp.substGroup.userReported.BDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userReported.impl;
+/**
+ * A document containing one b(@http://xbean/scomp/substGroup/UserReported) element.
+ *
+ * This is a complex type.
+ */
+public class BDocumentImpl extends xbean.scomp.substGroup.userReported.impl.ADocumentImpl implements xbean.scomp.substGroup.userReported.BDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName B$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "b");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 98:
+                if (name.equals(B$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "b" element
+     */
+    public xbean.scomp.substGroup.userReported.T getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.T target = null;
+            target = (xbean.scomp.substGroup.userReported.T)get_store().find_element_user(B$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "b" element
+     */
+    public void setB(xbean.scomp.substGroup.userReported.T b)
+    {
+        generatedSetterHelperImpl(b, B$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "b" element
+     */
+    public xbean.scomp.substGroup.userReported.T addNewB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.T target = null;
+            target = (xbean.scomp.substGroup.userReported.T)get_store().add_element_user(B$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * An XML document type.
+ * Localname: Root
+ * Namespace: http://xbean/scomp/substGroup/UserReported
+ * Java type: xbean.scomp.substGroup.userReported.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userReported.impl;
+/**
+ * A document containing one Root(@http://xbean/scomp/substGroup/UserReported) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userReported.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "Root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2553090:
+                if (name.equals(ROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Root" element
+     */
+    public xbean.scomp.substGroup.userReported.RootDocument.Root getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.RootDocument.Root target = null;
+            target = (xbean.scomp.substGroup.userReported.RootDocument.Root)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Root" element
+     */
+    public void setRoot(xbean.scomp.substGroup.userReported.RootDocument.Root root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Root" element
+     */
+    public xbean.scomp.substGroup.userReported.RootDocument.Root addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.userReported.RootDocument.Root target = null;
+            target = (xbean.scomp.substGroup.userReported.RootDocument.Root)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Root(@http://xbean/scomp/substGroup/UserReported).
+     *
+     * This is a complex type.
+     */
+    public static class RootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userReported.RootDocument.Root
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName A$0 = 
+            new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "a");
+        private static final org.apache.xmlbeans.QNameSet A$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+            new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "b"),
+            new javax.xml.namespace.QName("http://xbean/scomp/substGroup/UserReported", "a"),
+        });
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 97:
+                    if (name.equals(A$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "a" elements
+         */
+        public xbean.scomp.substGroup.userReported.T[] getAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(A$1, targetList);
+                xbean.scomp.substGroup.userReported.T[] result = new xbean.scomp.substGroup.userReported.T[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "a" element
+         */
+        public xbean.scomp.substGroup.userReported.T getAArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.substGroup.userReported.T target = null;
+                target = (xbean.scomp.substGroup.userReported.T)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "a" element
+         */
+        public int sizeOfAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(A$1);
+            }
+        }
+        
+        /**
+         * Sets array of all "a" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setAArray(xbean.scomp.substGroup.userReported.T[] aArray)
+        {
+            check_orphaned();
+            arraySetterHelper(aArray, A$0, A$1);
+        }
+        
+        /**
+         * Sets ith "a" element
+         */
+        public void setAArray(int i, xbean.scomp.substGroup.userReported.T a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.substGroup.userReported.T target = null;
+                target = (xbean.scomp.substGroup.userReported.T)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(a);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "a" element
+         */
+        public xbean.scomp.substGroup.userReported.T insertNewA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.substGroup.userReported.T target = null;
+                target = (xbean.scomp.substGroup.userReported.T)get_store().insert_element_user(A$1, A$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "a" element
+         */
+        public xbean.scomp.substGroup.userReported.T addNewA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xbean.scomp.substGroup.userReported.T target = null;
+                target = (xbean.scomp.substGroup.userReported.T)get_store().add_element_user(A$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "a" element
+         */
+        public void removeA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(A$1, i);
+            }
+        }
+    }
+}
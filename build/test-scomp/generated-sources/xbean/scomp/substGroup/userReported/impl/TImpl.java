@@ -0,0 +1,24 @@
+/*
+ * XML Type:  T
+ * Namespace: http://xbean/scomp/substGroup/UserReported
+ * Java type: xbean.scomp.substGroup.userReported.T
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.userReported.impl;
+/**
+ * An XML T(@http://xbean/scomp/substGroup/UserReported).
+ *
+ * This is a complex type.
+ */
+public class TImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.scomp.substGroup.userReported.T
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
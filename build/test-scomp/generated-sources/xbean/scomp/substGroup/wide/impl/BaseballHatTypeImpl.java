@@ -0,0 +1,118 @@
+/*
+ * XML Type:  baseballHatType
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.BaseballHatType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * An XML baseballHatType(@http://xbean/scomp/substGroup/Wide).
+ *
+ * This is a complex type.
+ */
+public class BaseballHatTypeImpl extends xbean.scomp.substGroup.wide.impl.HatTypeImpl implements xbean.scomp.substGroup.wide.BaseballHatType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseballHatTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEAMNAME$0 = 
+        new javax.xml.namespace.QName("", "TeamName");
+    
+    
+    /**
+     * Gets the "TeamName" attribute
+     */
+    public java.lang.String getTeamName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TEAMNAME$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "TeamName" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetTeamName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TEAMNAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "TeamName" attribute
+     */
+    public boolean isSetTeamName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TEAMNAME$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "TeamName" attribute
+     */
+    public void setTeamName(java.lang.String teamName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TEAMNAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TEAMNAME$0);
+            }
+            target.setStringValue(teamName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "TeamName" attribute
+     */
+    public void xsetTeamName(org.apache.xmlbeans.XmlString teamName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TEAMNAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TEAMNAME$0);
+            }
+            target.set(teamName);
+        }
+    }
+    
+    /**
+     * Unsets the "TeamName" attribute
+     */
+    public void unsetTeamName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TEAMNAME$0);
+        }
+    }
+}
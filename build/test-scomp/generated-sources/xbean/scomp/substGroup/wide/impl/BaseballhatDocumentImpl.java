@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: baseballhat
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.BaseballhatDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * A document containing one baseballhat(@http://xbean/scomp/substGroup/Wide) element.
+ *
+ * This is a complex type.
+ */
+public class BaseballhatDocumentImpl extends xbean.scomp.substGroup.wide.impl.HatDocumentImpl implements xbean.scomp.substGroup.wide.BaseballhatDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseballhatDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BASEBALLHAT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "baseballhat");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 297940043:
+                if (name.equals(BASEBALLHAT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "baseballhat" element
+     */
+    public xbean.scomp.substGroup.wide.BaseballHatType getBaseballhat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.BaseballHatType target = null;
+            target = (xbean.scomp.substGroup.wide.BaseballHatType)get_store().find_element_user(BASEBALLHAT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "baseballhat" element
+     */
+    public void setBaseballhat(xbean.scomp.substGroup.wide.BaseballHatType baseballhat)
+    {
+        generatedSetterHelperImpl(baseballhat, BASEBALLHAT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "baseballhat" element
+     */
+    public xbean.scomp.substGroup.wide.BaseballHatType addNewBaseballhat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.BaseballHatType target = null;
+            target = (xbean.scomp.substGroup.wide.BaseballHatType)get_store().add_element_user(BASEBALLHAT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * XML Type:  beachUmbrellaT
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.BeachUmbrellaT
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * An XML beachUmbrellaT(@http://xbean/scomp/substGroup/Wide).
+ *
+ * This is a complex type.
+ */
+public class BeachUmbrellaTImpl extends xbean.scomp.substGroup.deep.impl.ProductTypeImpl implements xbean.scomp.substGroup.wide.BeachUmbrellaT
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BeachUmbrellaTImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DIAMETER$0 = 
+        new javax.xml.namespace.QName("", "diameter");
+    
+    
+    /**
+     * Gets the "diameter" attribute
+     */
+    public float getDiameter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(DIAMETER$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DIAMETER$0);
+            if (target == null)
+            {
+                return 0.0f;
+            }
+            return target.getFloatValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "diameter" attribute
+     */
+    public org.apache.xmlbeans.XmlFloat xgetDiameter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(DIAMETER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "diameter" attribute
+     */
+    public boolean isSetDiameter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(DIAMETER$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "diameter" attribute
+     */
+    public void setDiameter(float diameter)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DIAMETER$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DIAMETER$0);
+            }
+            target.setFloatValue(diameter);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "diameter" attribute
+     */
+    public void xsetDiameter(org.apache.xmlbeans.XmlFloat diameter)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(DIAMETER$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlFloat)get_store().add_attribute_user(DIAMETER$0);
+            }
+            target.set(diameter);
+        }
+    }
+    
+    /**
+     * Unsets the "diameter" attribute
+     */
+    public void unsetDiameter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(DIAMETER$0);
+        }
+    }
+}
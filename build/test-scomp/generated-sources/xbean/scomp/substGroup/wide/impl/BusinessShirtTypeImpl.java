@@ -0,0 +1,43 @@
+/*
+ * XML Type:  businessShirtType
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.BusinessShirtType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * An XML businessShirtType(@http://xbean/scomp/substGroup/Wide).
+ *
+ * This is a complex type.
+ */
+public class BusinessShirtTypeImpl extends xbean.scomp.substGroup.deep.impl.ShirtTypeImpl implements xbean.scomp.substGroup.wide.BusinessShirtType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BusinessShirtTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+    /**
+     * An XML color(@).
+     *
+     * This is an atomic type that is a restriction of xbean.scomp.substGroup.wide.BusinessShirtType$Color.
+     */
+    public static class ColorImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xbean.scomp.substGroup.wide.BusinessShirtType.Color
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ColorImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected ColorImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: businessshirt
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.BusinessshirtDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * A document containing one businessshirt(@http://xbean/scomp/substGroup/Wide) element.
+ *
+ * This is a complex type.
+ */
+public class BusinessshirtDocumentImpl extends xbean.scomp.substGroup.wide.impl.ShirtDocumentImpl implements xbean.scomp.substGroup.wide.BusinessshirtDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BusinessshirtDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BUSINESSSHIRT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "businessshirt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 648185398:
+                if (name.equals(BUSINESSSHIRT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "businessshirt" element
+     */
+    public xbean.scomp.substGroup.wide.BusinessShirtType getBusinessshirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.BusinessShirtType target = null;
+            target = (xbean.scomp.substGroup.wide.BusinessShirtType)get_store().find_element_user(BUSINESSSHIRT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "businessshirt" element
+     */
+    public void setBusinessshirt(xbean.scomp.substGroup.wide.BusinessShirtType businessshirt)
+    {
+        generatedSetterHelperImpl(businessshirt, BUSINESSSHIRT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "businessshirt" element
+     */
+    public xbean.scomp.substGroup.wide.BusinessShirtType addNewBusinessshirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.BusinessShirtType target = null;
+            target = (xbean.scomp.substGroup.wide.BusinessShirtType)get_store().add_element_user(BUSINESSSHIRT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: hat
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.HatDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * A document containing one hat(@http://xbean/scomp/substGroup/Wide) element.
+ *
+ * This is a complex type.
+ */
+public class HatDocumentImpl extends xbean.scomp.substGroup.deep.impl.ProductDocumentImpl implements xbean.scomp.substGroup.wide.HatDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HatDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HAT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "hat");
+    private static final org.apache.xmlbeans.QNameSet HAT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "hat"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "baseballhat"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 103067:
+                if (name.equals(HAT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "hat" element
+     */
+    public xbean.scomp.substGroup.wide.HatType getHat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.HatType target = null;
+            target = (xbean.scomp.substGroup.wide.HatType)get_store().find_element_user(HAT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "hat" element
+     */
+    public void setHat(xbean.scomp.substGroup.wide.HatType hat)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.HatType target = null;
+            target = (xbean.scomp.substGroup.wide.HatType)get_store().find_element_user(HAT$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.wide.HatType)get_store().add_element_user(HAT$0);
+            }
+            target.set(hat);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "hat" element
+     */
+    public xbean.scomp.substGroup.wide.HatType addNewHat()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.wide.HatType target = null;
+            target = (xbean.scomp.substGroup.wide.HatType)get_store().add_element_user(HAT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  hatType
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.HatType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * An XML hatType(@http://xbean/scomp/substGroup/Wide).
+ *
+ * This is a complex type.
+ */
+public class HatTypeImpl extends xbean.scomp.substGroup.deep.impl.ProductTypeImpl implements xbean.scomp.substGroup.wide.HatType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HatTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIZE$0 = 
+        new javax.xml.namespace.QName("", "size");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3530753:
+                if (name.equals(SIZE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "size" element
+     */
+    public java.math.BigInteger getSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "size" element
+     */
+    public org.apache.xmlbeans.XmlPositiveInteger xgetSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(SIZE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "size" element
+     */
+    public void setSize(java.math.BigInteger size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIZE$0);
+            }
+            target.setBigIntegerValue(size);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "size" element
+     */
+    public void xsetSize(org.apache.xmlbeans.XmlPositiveInteger size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().add_element_user(SIZE$0);
+            }
+            target.set(size);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: shirt
+ * Namespace: http://xbean/scomp/substGroup/Wide
+ * Java type: xbean.scomp.substGroup.wide.ShirtDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.wide.impl;
+/**
+ * A document containing one shirt(@http://xbean/scomp/substGroup/Wide) element.
+ *
+ * This is a complex type.
+ */
+public class ShirtDocumentImpl extends xbean.scomp.substGroup.deep.impl.ProductDocumentImpl implements xbean.scomp.substGroup.wide.ShirtDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShirtDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIRT$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "shirt");
+    private static final org.apache.xmlbeans.QNameSet SHIRT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "shirt"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Wide", "businessshirt"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 109407734:
+                if (name.equals(SHIRT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "shirt" element
+     */
+    public xbean.scomp.substGroup.deep.ShirtType getShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().find_element_user(SHIRT$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "shirt" element
+     */
+    public void setShirt(xbean.scomp.substGroup.deep.ShirtType shirt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().find_element_user(SHIRT$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.ShirtType)get_store().add_element_user(SHIRT$0);
+            }
+            target.set(shirt);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "shirt" element
+     */
+    public xbean.scomp.substGroup.deep.ShirtType addNewShirt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ShirtType target = null;
+            target = (xbean.scomp.substGroup.deep.ShirtType)get_store().add_element_user(SHIRT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: beachumbrella
+ * Namespace: http://xbean/scomp/substGroup/Abstract
+ * Java type: xbean.scomp.substGroup.xabstract.BeachumbrellaDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.xabstract.impl;
+/**
+ * A document containing one beachumbrella(@http://xbean/scomp/substGroup/Abstract) element.
+ *
+ * This is a complex type.
+ */
+public class BeachumbrellaDocumentImpl extends xbean.scomp.substGroup.xabstract.impl.UmbrellaDocumentImpl implements xbean.scomp.substGroup.xabstract.BeachumbrellaDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BeachumbrellaDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BEACHUMBRELLA$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "beachumbrella");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 599522215:
+                if (name.equals(BEACHUMBRELLA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "beachumbrella" element
+     */
+    public xbean.scomp.substGroup.xabstract.BeachUmbrellaT getBeachumbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.xabstract.BeachUmbrellaT target = null;
+            target = (xbean.scomp.substGroup.xabstract.BeachUmbrellaT)get_store().find_element_user(BEACHUMBRELLA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "beachumbrella" element
+     */
+    public void setBeachumbrella(xbean.scomp.substGroup.xabstract.BeachUmbrellaT beachumbrella)
+    {
+        generatedSetterHelperImpl(beachumbrella, BEACHUMBRELLA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "beachumbrella" element
+     */
+    public xbean.scomp.substGroup.xabstract.BeachUmbrellaT addNewBeachumbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.xabstract.BeachUmbrellaT target = null;
+            target = (xbean.scomp.substGroup.xabstract.BeachUmbrellaT)get_store().add_element_user(BEACHUMBRELLA$0);
+            return target;
+        }
+    }
+}
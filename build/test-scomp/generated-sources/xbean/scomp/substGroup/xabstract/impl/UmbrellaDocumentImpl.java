@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: umbrella
+ * Namespace: http://xbean/scomp/substGroup/Abstract
+ * Java type: xbean.scomp.substGroup.xabstract.UmbrellaDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.scomp.substGroup.xabstract.impl;
+/**
+ * A document containing one umbrella(@http://xbean/scomp/substGroup/Abstract) element.
+ *
+ * This is a complex type.
+ */
+public class UmbrellaDocumentImpl extends xbean.scomp.substGroup.deep.impl.ProductDocumentImpl implements xbean.scomp.substGroup.xabstract.UmbrellaDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UmbrellaDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UMBRELLA$0 = 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "umbrella");
+    private static final org.apache.xmlbeans.QNameSet UMBRELLA$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "umbrella"),
+        new javax.xml.namespace.QName("http://xbean/scomp/substGroup/Abstract", "beachumbrella"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1381913276:
+                if (name.equals(UMBRELLA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "umbrella" element
+     */
+    public xbean.scomp.substGroup.deep.ProductType getUmbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().find_element_user(UMBRELLA$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "umbrella" element
+     */
+    public void setUmbrella(xbean.scomp.substGroup.deep.ProductType umbrella)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().find_element_user(UMBRELLA$1, 0);
+            if (target == null)
+            {
+                target = (xbean.scomp.substGroup.deep.ProductType)get_store().add_element_user(UMBRELLA$0);
+            }
+            target.set(umbrella);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "umbrella" element
+     */
+    public xbean.scomp.substGroup.deep.ProductType addNewUmbrella()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.scomp.substGroup.deep.ProductType target = null;
+            target = (xbean.scomp.substGroup.deep.ProductType)get_store().add_element_user(UMBRELLA$0);
+            return target;
+        }
+    }
+}
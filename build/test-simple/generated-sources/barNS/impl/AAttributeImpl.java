@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: a
+ * Namespace: barNS
+ * Java type: barNS.AAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package barNS.impl;
+/**
+ * A document containing one a(@barNS) attribute.
+ *
+ * This is a complex type.
+ */
+public class AAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements barNS.AAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("barNS", "a");
+    
+    
+    /**
+     * Gets the "a" attribute
+     */
+    public java.math.BigInteger getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(A$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "a" attribute
+     */
+    public boolean isSetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(A$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "a" attribute
+     */
+    public void setA(java.math.BigInteger a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(A$0);
+            }
+            target.setBigIntegerValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a" attribute
+     */
+    public void xsetA(org.apache.xmlbeans.XmlInteger a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(A$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(A$0);
+            }
+            target.set(a);
+        }
+    }
+    
+    /**
+     * Unsets the "a" attribute
+     */
+    public void unsetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(A$0);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * An XML attribute type.
+ * Localname: c
+ * Namespace: dumbNS:::
+ * Java type: dumbNS.CAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package dumbNS.impl;
+/**
+ * A document containing one c(@dumbNS:::) attribute.
+ *
+ * This is a complex type.
+ */
+public class CAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dumbNS.CAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName C$0 = 
+        new javax.xml.namespace.QName("dumbNS:::", "c");
+    
+    
+    /**
+     * Gets the "c" attribute
+     */
+    public java.math.BigInteger getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(C$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "c" attribute
+     */
+    public boolean isSetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(C$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "c" attribute
+     */
+    public void setC(java.math.BigInteger c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(C$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(C$0);
+            }
+            target.setBigIntegerValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" attribute
+     */
+    public void xsetC(org.apache.xmlbeans.XmlInteger c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(C$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(C$0);
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Unsets the "c" attribute
+     */
+    public void unsetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(C$0);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * An XML document type.
+ * Localname: root
+ * Namespace: dumbNS:::
+ * Java type: dumbNS.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package dumbNS.impl;
+/**
+ * A document containing one root(@dumbNS:::) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dumbNS.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("dumbNS:::", "root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3506402:
+                if (name.equals(ROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "root" element
+     */
+    public dumbNS.RootDocument.Root getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            dumbNS.RootDocument.Root target = null;
+            target = (dumbNS.RootDocument.Root)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "root" element
+     */
+    public void setRoot(dumbNS.RootDocument.Root root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "root" element
+     */
+    public dumbNS.RootDocument.Root addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            dumbNS.RootDocument.Root target = null;
+            target = (dumbNS.RootDocument.Root)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML root(@dumbNS:::).
+     *
+     * This is a complex type.
+     */
+    public static class RootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dumbNS.RootDocument.Root
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName B$0 = 
+            new javax.xml.namespace.QName("dumbNS:::", "b");
+        private static final javax.xml.namespace.QName B2$2 = 
+            new javax.xml.namespace.QName("barNS", "b");
+        
+        
+        /**
+         * Gets the "b" attribute
+         */
+        public java.math.BigInteger getB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigIntegerValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "b" attribute
+         */
+        public org.apache.xmlbeans.XmlInteger xgetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "b" attribute
+         */
+        public boolean isSetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(B$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "b" attribute
+         */
+        public void setB(java.math.BigInteger b)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B$0);
+                }
+                target.setBigIntegerValue(b);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "b" attribute
+         */
+        public void xsetB(org.apache.xmlbeans.XmlInteger b)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(B$0);
+                }
+                target.set(b);
+            }
+        }
+        
+        /**
+         * Unsets the "b" attribute
+         */
+        public void unsetB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(B$0);
+            }
+        }
+        
+        /**
+         * Gets the "b" attribute
+         */
+        public java.math.BigInteger getB2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B2$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigIntegerValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "b" attribute
+         */
+        public org.apache.xmlbeans.XmlInteger xgetB2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B2$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "b" attribute
+         */
+        public boolean isSetB2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(B2$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "b" attribute
+         */
+        public void setB2(java.math.BigInteger b2)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(B2$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(B2$2);
+                }
+                target.setBigIntegerValue(b2);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "b" attribute
+         */
+        public void xsetB2(org.apache.xmlbeans.XmlInteger b2)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(B2$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(B2$2);
+                }
+                target.set(b2);
+            }
+        }
+        
+        /**
+         * Unsets the "b" attribute
+         */
+        public void unsetB2()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(B2$2);
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * An XML document type.
+ * Localname: RESULT
+ * Namespace: 
+ * Java type: noNamespace.RESULTDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one RESULT(@) element.
+ *
+ * This is a complex type.
+ */
+public interface RESULTDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RESULTDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("resultc5d6doctype");
+    
+    /**
+     * Gets the "RESULT" element
+     */
+    noNamespace.RESULTDocument.RESULT getRESULT();
+    
+    /**
+     * Sets the "RESULT" element
+     */
+    void setRESULT(noNamespace.RESULTDocument.RESULT result);
+    
+    /**
+     * Appends and returns a new empty "RESULT" element
+     */
+    noNamespace.RESULTDocument.RESULT addNewRESULT();
+    
+    /**
+     * An XML RESULT(@).
+     *
+     * This is a complex type.
+     */
+    public interface RESULT extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RESULT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("resultb34delemtype");
+        
+        /**
+         * Gets array of all "CustomerOrder" elements
+         */
+        noNamespace.RESULTDocument.RESULT.CustomerOrder[] getCustomerOrderArray();
+        
+        /**
+         * Gets ith "CustomerOrder" element
+         */
+        noNamespace.RESULTDocument.RESULT.CustomerOrder getCustomerOrderArray(int i);
+        
+        /**
+         * Returns number of "CustomerOrder" element
+         */
+        int sizeOfCustomerOrderArray();
+        
+        /**
+         * Sets array of all "CustomerOrder" element
+         */
+        void setCustomerOrderArray(noNamespace.RESULTDocument.RESULT.CustomerOrder[] customerOrderArray);
+        
+        /**
+         * Sets ith "CustomerOrder" element
+         */
+        void setCustomerOrderArray(int i, noNamespace.RESULTDocument.RESULT.CustomerOrder customerOrder);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "CustomerOrder" element
+         */
+        noNamespace.RESULTDocument.RESULT.CustomerOrder insertNewCustomerOrder(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "CustomerOrder" element
+         */
+        noNamespace.RESULTDocument.RESULT.CustomerOrder addNewCustomerOrder();
+        
+        /**
+         * Removes the ith "CustomerOrder" element
+         */
+        void removeCustomerOrder(int i);
+        
+        /**
+         * An XML CustomerOrder(@).
+         *
+         * This is a complex type.
+         */
+        public interface CustomerOrder extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CustomerOrder.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("customerorderc4b9elemtype");
+            
+            /**
+             * Gets the "ORDER_DATE" element
+             */
+            java.util.Calendar getORDERDATE();
+            
+            /**
+             * Gets (as xml) the "ORDER_DATE" element
+             */
+            org.apache.xmlbeans.XmlDate xgetORDERDATE();
+            
+            /**
+             * Sets the "ORDER_DATE" element
+             */
+            void setORDERDATE(java.util.Calendar orderdate);
+            
+            /**
+             * Sets (as xml) the "ORDER_DATE" element
+             */
+            void xsetORDERDATE(org.apache.xmlbeans.XmlDate orderdate);
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            java.lang.String getORDERID();
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetORDERID();
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            void setORDERID(java.lang.String orderid);
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            void xsetORDERID(org.apache.xmlbeans.XmlString orderid);
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            java.lang.String getCUSTOMERID();
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetCUSTOMERID();
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            void setCUSTOMERID(java.lang.String customerid);
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid);
+            
+            /**
+             * Gets the "SHIP_METHOD" element
+             */
+            java.lang.String getSHIPMETHOD();
+            
+            /**
+             * Gets (as xml) the "SHIP_METHOD" element
+             */
+            org.apache.xmlbeans.XmlString xgetSHIPMETHOD();
+            
+            /**
+             * Sets the "SHIP_METHOD" element
+             */
+            void setSHIPMETHOD(java.lang.String shipmethod);
+            
+            /**
+             * Sets (as xml) the "SHIP_METHOD" element
+             */
+            void xsetSHIPMETHOD(org.apache.xmlbeans.XmlString shipmethod);
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            java.math.BigDecimal getTOTALORDERAMOUNT();
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT();
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount);
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount);
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.RESULTDocument.RESULT.CustomerOrder newInstance() {
+                  return (noNamespace.RESULTDocument.RESULT.CustomerOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.RESULTDocument.RESULT.CustomerOrder newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.RESULTDocument.RESULT.CustomerOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.RESULTDocument.RESULT newInstance() {
+              return (noNamespace.RESULTDocument.RESULT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.RESULTDocument.RESULT newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.RESULTDocument.RESULT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.RESULTDocument newInstance() {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.RESULTDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.RESULTDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.RESULTDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.RESULTDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.RESULTDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.RESULTDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.RESULTDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.RESULTDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.RESULTDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.RESULTDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.RESULTDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.RESULTDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * An XML document type.
+ * Localname: result
+ * Namespace: 
+ * Java type: noNamespace.ResultDocument2
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one result(@) element.
+ *
+ * This is a complex type.
+ */
+public interface ResultDocument2 extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ResultDocument2.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("resultd1d6doctype");
+    
+    /**
+     * Gets the "result" element
+     */
+    noNamespace.ResultDocument2.Result getResult();
+    
+    /**
+     * Sets the "result" element
+     */
+    void setResult(noNamespace.ResultDocument2.Result result);
+    
+    /**
+     * Appends and returns a new empty "result" element
+     */
+    noNamespace.ResultDocument2.Result addNewResult();
+    
+    /**
+     * An XML result(@).
+     *
+     * This is a complex type.
+     */
+    public interface Result extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Result.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("result334delemtype");
+        
+        /**
+         * Gets array of all "broadband" elements
+         */
+        noNamespace.ResultDocument2.Result.Broadband[] getBroadbandArray();
+        
+        /**
+         * Gets ith "broadband" element
+         */
+        noNamespace.ResultDocument2.Result.Broadband getBroadbandArray(int i);
+        
+        /**
+         * Returns number of "broadband" element
+         */
+        int sizeOfBroadbandArray();
+        
+        /**
+         * Sets array of all "broadband" element
+         */
+        void setBroadbandArray(noNamespace.ResultDocument2.Result.Broadband[] broadbandArray);
+        
+        /**
+         * Sets ith "broadband" element
+         */
+        void setBroadbandArray(int i, noNamespace.ResultDocument2.Result.Broadband broadband);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "broadband" element
+         */
+        noNamespace.ResultDocument2.Result.Broadband insertNewBroadband(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "broadband" element
+         */
+        noNamespace.ResultDocument2.Result.Broadband addNewBroadband();
+        
+        /**
+         * Removes the ith "broadband" element
+         */
+        void removeBroadband(int i);
+        
+        /**
+         * Gets array of all "wireless" elements
+         */
+        noNamespace.ResultDocument2.Result.Wireless[] getWirelessArray();
+        
+        /**
+         * Gets ith "wireless" element
+         */
+        noNamespace.ResultDocument2.Result.Wireless getWirelessArray(int i);
+        
+        /**
+         * Returns number of "wireless" element
+         */
+        int sizeOfWirelessArray();
+        
+        /**
+         * Sets array of all "wireless" element
+         */
+        void setWirelessArray(noNamespace.ResultDocument2.Result.Wireless[] wirelessArray);
+        
+        /**
+         * Sets ith "wireless" element
+         */
+        void setWirelessArray(int i, noNamespace.ResultDocument2.Result.Wireless wireless);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "wireless" element
+         */
+        noNamespace.ResultDocument2.Result.Wireless insertNewWireless(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "wireless" element
+         */
+        noNamespace.ResultDocument2.Result.Wireless addNewWireless();
+        
+        /**
+         * Removes the ith "wireless" element
+         */
+        void removeWireless(int i);
+        
+        /**
+         * An XML broadband(@).
+         *
+         * This is a complex type.
+         */
+        public interface Broadband extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Broadband.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("broadbandeec0elemtype");
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            java.lang.String getORDERID();
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetORDERID();
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            void setORDERID(java.lang.String orderid);
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            void xsetORDERID(org.apache.xmlbeans.XmlString orderid);
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            java.math.BigDecimal getTOTALORDERAMOUNT();
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT();
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount);
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount);
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            java.lang.String getCUSTOMERID();
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetCUSTOMERID();
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            void setCUSTOMERID(java.lang.String customerid);
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid);
+            
+            /**
+             * Gets the "FIRST_NAME" element
+             */
+            java.lang.String getFIRSTNAME();
+            
+            /**
+             * Gets (as xml) the "FIRST_NAME" element
+             */
+            org.apache.xmlbeans.XmlString xgetFIRSTNAME();
+            
+            /**
+             * Sets the "FIRST_NAME" element
+             */
+            void setFIRSTNAME(java.lang.String firstname);
+            
+            /**
+             * Sets (as xml) the "FIRST_NAME" element
+             */
+            void xsetFIRSTNAME(org.apache.xmlbeans.XmlString firstname);
+            
+            /**
+             * Gets the "LAST_NAME" element
+             */
+            java.lang.String getLASTNAME();
+            
+            /**
+             * Gets (as xml) the "LAST_NAME" element
+             */
+            org.apache.xmlbeans.XmlString xgetLASTNAME();
+            
+            /**
+             * Sets the "LAST_NAME" element
+             */
+            void setLASTNAME(java.lang.String lastname);
+            
+            /**
+             * Sets (as xml) the "LAST_NAME" element
+             */
+            void xsetLASTNAME(org.apache.xmlbeans.XmlString lastname);
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.ResultDocument2.Result.Broadband newInstance() {
+                  return (noNamespace.ResultDocument2.Result.Broadband) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.ResultDocument2.Result.Broadband newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.ResultDocument2.Result.Broadband) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML wireless(@).
+         *
+         * This is a complex type.
+         */
+        public interface Wireless extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Wireless.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("wireless46f7elemtype");
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            java.lang.String getORDERID();
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetORDERID();
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            void setORDERID(java.lang.String orderid);
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            void xsetORDERID(org.apache.xmlbeans.XmlString orderid);
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            java.math.BigDecimal getTOTALORDERAMOUNT();
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT();
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount);
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount);
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            java.lang.String getCUSTOMERID();
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            org.apache.xmlbeans.XmlString xgetCUSTOMERID();
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            void setCUSTOMERID(java.lang.String customerid);
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid);
+            
+            /**
+             * Gets the "FIRST_NAME" element
+             */
+            java.lang.String getFIRSTNAME();
+            
+            /**
+             * Gets (as xml) the "FIRST_NAME" element
+             */
+            org.apache.xmlbeans.XmlString xgetFIRSTNAME();
+            
+            /**
+             * Sets the "FIRST_NAME" element
+             */
+            void setFIRSTNAME(java.lang.String firstname);
+            
+            /**
+             * Sets (as xml) the "FIRST_NAME" element
+             */
+            void xsetFIRSTNAME(org.apache.xmlbeans.XmlString firstname);
+            
+            /**
+             * Gets the "LAST_NAME" element
+             */
+            java.lang.String getLASTNAME();
+            
+            /**
+             * Gets (as xml) the "LAST_NAME" element
+             */
+            org.apache.xmlbeans.XmlString xgetLASTNAME();
+            
+            /**
+             * Sets the "LAST_NAME" element
+             */
+            void setLASTNAME(java.lang.String lastname);
+            
+            /**
+             * Sets (as xml) the "LAST_NAME" element
+             */
+            void xsetLASTNAME(org.apache.xmlbeans.XmlString lastname);
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.ResultDocument2.Result.Wireless newInstance() {
+                  return (noNamespace.ResultDocument2.Result.Wireless) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.ResultDocument2.Result.Wireless newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.ResultDocument2.Result.Wireless) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.ResultDocument2.Result newInstance() {
+              return (noNamespace.ResultDocument2.Result) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.ResultDocument2.Result newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.ResultDocument2.Result) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.ResultDocument2 newInstance() {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.ResultDocument2 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.ResultDocument2 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.ResultDocument2 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.ResultDocument2 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.ResultDocument2 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.ResultDocument2 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.ResultDocument2 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.ResultDocument2 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.ResultDocument2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
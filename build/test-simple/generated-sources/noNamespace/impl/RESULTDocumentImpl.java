@@ -0,0 +1,612 @@
+/*
+ * An XML document type.
+ * Localname: RESULT
+ * Namespace: 
+ * Java type: noNamespace.RESULTDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one RESULT(@) element.
+ *
+ * This is a complex type.
+ */
+public class RESULTDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RESULTDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RESULTDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESULT$0 = 
+        new javax.xml.namespace.QName("", "RESULT");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1881097187:
+                if (name.equals(RESULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "RESULT" element
+     */
+    public noNamespace.RESULTDocument.RESULT getRESULT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.RESULTDocument.RESULT target = null;
+            target = (noNamespace.RESULTDocument.RESULT)get_store().find_element_user(RESULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RESULT" element
+     */
+    public void setRESULT(noNamespace.RESULTDocument.RESULT result)
+    {
+        generatedSetterHelperImpl(result, RESULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "RESULT" element
+     */
+    public noNamespace.RESULTDocument.RESULT addNewRESULT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.RESULTDocument.RESULT target = null;
+            target = (noNamespace.RESULTDocument.RESULT)get_store().add_element_user(RESULT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML RESULT(@).
+     *
+     * This is a complex type.
+     */
+    public static class RESULTImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RESULTDocument.RESULT
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RESULTImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CUSTOMERORDER$0 = 
+            new javax.xml.namespace.QName("", "CustomerOrder");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1359511056:
+                    if (name.equals(CUSTOMERORDER$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "CustomerOrder" elements
+         */
+        public noNamespace.RESULTDocument.RESULT.CustomerOrder[] getCustomerOrderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(CUSTOMERORDER$0, targetList);
+                noNamespace.RESULTDocument.RESULT.CustomerOrder[] result = new noNamespace.RESULTDocument.RESULT.CustomerOrder[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "CustomerOrder" element
+         */
+        public noNamespace.RESULTDocument.RESULT.CustomerOrder getCustomerOrderArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RESULTDocument.RESULT.CustomerOrder target = null;
+                target = (noNamespace.RESULTDocument.RESULT.CustomerOrder)get_store().find_element_user(CUSTOMERORDER$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "CustomerOrder" element
+         */
+        public int sizeOfCustomerOrderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CUSTOMERORDER$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "CustomerOrder" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setCustomerOrderArray(noNamespace.RESULTDocument.RESULT.CustomerOrder[] customerOrderArray)
+        {
+            check_orphaned();
+            arraySetterHelper(customerOrderArray, CUSTOMERORDER$0);
+        }
+        
+        /**
+         * Sets ith "CustomerOrder" element
+         */
+        public void setCustomerOrderArray(int i, noNamespace.RESULTDocument.RESULT.CustomerOrder customerOrder)
+        {
+            generatedSetterHelperImpl(customerOrder, CUSTOMERORDER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "CustomerOrder" element
+         */
+        public noNamespace.RESULTDocument.RESULT.CustomerOrder insertNewCustomerOrder(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RESULTDocument.RESULT.CustomerOrder target = null;
+                target = (noNamespace.RESULTDocument.RESULT.CustomerOrder)get_store().insert_element_user(CUSTOMERORDER$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "CustomerOrder" element
+         */
+        public noNamespace.RESULTDocument.RESULT.CustomerOrder addNewCustomerOrder()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RESULTDocument.RESULT.CustomerOrder target = null;
+                target = (noNamespace.RESULTDocument.RESULT.CustomerOrder)get_store().add_element_user(CUSTOMERORDER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "CustomerOrder" element
+         */
+        public void removeCustomerOrder(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CUSTOMERORDER$0, i);
+            }
+        }
+        /**
+         * An XML CustomerOrder(@).
+         *
+         * This is a complex type.
+         */
+        public static class CustomerOrderImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RESULTDocument.RESULT.CustomerOrder
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public CustomerOrderImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName ORDERDATE$0 = 
+                new javax.xml.namespace.QName("", "ORDER_DATE");
+            private static final javax.xml.namespace.QName ORDERID$2 = 
+                new javax.xml.namespace.QName("", "ORDER_ID");
+            private static final javax.xml.namespace.QName CUSTOMERID$4 = 
+                new javax.xml.namespace.QName("", "CUSTOMER_ID");
+            private static final javax.xml.namespace.QName SHIPMETHOD$6 = 
+                new javax.xml.namespace.QName("", "SHIP_METHOD");
+            private static final javax.xml.namespace.QName TOTALORDERAMOUNT$8 = 
+                new javax.xml.namespace.QName("", "TOTAL_ORDER_AMOUNT");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(5);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -512215996:
+                      if (name.equals(SHIPMETHOD$6))
+                          return ORDINAL$BASE + 3;
+                      break;
+                    case 255370180:
+                      if (name.equals(TOTALORDERAMOUNT$8))
+                          return ORDINAL$BASE + 4;
+                      break;
+                    case 380930332:
+                      if (name.equals(CUSTOMERID$4))
+                          return ORDINAL$BASE + 2;
+                      break;
+                    case 1270570527:
+                      if (name.equals(ORDERDATE$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                    case 2016962508:
+                      if (name.equals(ORDERID$2))
+                          return ORDINAL$BASE + 1;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets the "ORDER_DATE" element
+             */
+            public java.util.Calendar getORDERDATE()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERDATE$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getCalendarValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "ORDER_DATE" element
+             */
+            public org.apache.xmlbeans.XmlDate xgetORDERDATE()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDate target = null;
+                    target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(ORDERDATE$0, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ORDER_DATE" element
+             */
+            public void setORDERDATE(java.util.Calendar orderdate)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERDATE$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERDATE$0);
+                    }
+                    target.setCalendarValue(orderdate);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "ORDER_DATE" element
+             */
+            public void xsetORDERDATE(org.apache.xmlbeans.XmlDate orderdate)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDate target = null;
+                    target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(ORDERDATE$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(ORDERDATE$0);
+                    }
+                    target.set(orderdate);
+                }
+            }
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            public java.lang.String getORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$2, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            public void setORDERID(java.lang.String orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERID$2);
+                    }
+                    target.setStringValue(orderid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            public void xsetORDERID(org.apache.xmlbeans.XmlString orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ORDERID$2);
+                    }
+                    target.set(orderid);
+                }
+            }
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            public java.lang.String getCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            public void setCUSTOMERID(java.lang.String customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.setStringValue(customerid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            public void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.set(customerid);
+                }
+            }
+            
+            /**
+             * Gets the "SHIP_METHOD" element
+             */
+            public java.lang.String getSHIPMETHOD()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMETHOD$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "SHIP_METHOD" element
+             */
+            public org.apache.xmlbeans.XmlString xgetSHIPMETHOD()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SHIPMETHOD$6, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "SHIP_METHOD" element
+             */
+            public void setSHIPMETHOD(java.lang.String shipmethod)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMETHOD$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMETHOD$6);
+                    }
+                    target.setStringValue(shipmethod);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "SHIP_METHOD" element
+             */
+            public void xsetSHIPMETHOD(org.apache.xmlbeans.XmlString shipmethod)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SHIPMETHOD$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SHIPMETHOD$6);
+                    }
+                    target.set(shipmethod);
+                }
+            }
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public java.math.BigDecimal getTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getBigDecimalValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$8, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TOTALORDERAMOUNT$8);
+                    }
+                    target.setBigDecimalValue(totalorderamount);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(TOTALORDERAMOUNT$8);
+                    }
+                    target.set(totalorderamount);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1117 @@
+/*
+ * An XML document type.
+ * Localname: result
+ * Namespace: 
+ * Java type: noNamespace.ResultDocument2
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one result(@) element.
+ *
+ * This is a complex type.
+ */
+public class ResultDocument2Impl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ResultDocument2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResultDocument2Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESULT$0 = 
+        new javax.xml.namespace.QName("", "result");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -934426595:
+                if (name.equals(RESULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "result" element
+     */
+    public noNamespace.ResultDocument2.Result getResult()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ResultDocument2.Result target = null;
+            target = (noNamespace.ResultDocument2.Result)get_store().find_element_user(RESULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "result" element
+     */
+    public void setResult(noNamespace.ResultDocument2.Result result)
+    {
+        generatedSetterHelperImpl(result, RESULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "result" element
+     */
+    public noNamespace.ResultDocument2.Result addNewResult()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ResultDocument2.Result target = null;
+            target = (noNamespace.ResultDocument2.Result)get_store().add_element_user(RESULT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML result(@).
+     *
+     * This is a complex type.
+     */
+    public static class ResultImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ResultDocument2.Result
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ResultImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName BROADBAND$0 = 
+            new javax.xml.namespace.QName("", "broadband");
+        private static final javax.xml.namespace.QName WIRELESS$2 = 
+            new javax.xml.namespace.QName("", "wireless");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1618906185:
+                    if (name.equals(BROADBAND$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -1000044642:
+                    if (name.equals(WIRELESS$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "broadband" elements
+         */
+        public noNamespace.ResultDocument2.Result.Broadband[] getBroadbandArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BROADBAND$0, targetList);
+                noNamespace.ResultDocument2.Result.Broadband[] result = new noNamespace.ResultDocument2.Result.Broadband[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "broadband" element
+         */
+        public noNamespace.ResultDocument2.Result.Broadband getBroadbandArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Broadband target = null;
+                target = (noNamespace.ResultDocument2.Result.Broadband)get_store().find_element_user(BROADBAND$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "broadband" element
+         */
+        public int sizeOfBroadbandArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(BROADBAND$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "broadband" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setBroadbandArray(noNamespace.ResultDocument2.Result.Broadband[] broadbandArray)
+        {
+            check_orphaned();
+            arraySetterHelper(broadbandArray, BROADBAND$0);
+        }
+        
+        /**
+         * Sets ith "broadband" element
+         */
+        public void setBroadbandArray(int i, noNamespace.ResultDocument2.Result.Broadband broadband)
+        {
+            generatedSetterHelperImpl(broadband, BROADBAND$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "broadband" element
+         */
+        public noNamespace.ResultDocument2.Result.Broadband insertNewBroadband(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Broadband target = null;
+                target = (noNamespace.ResultDocument2.Result.Broadband)get_store().insert_element_user(BROADBAND$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "broadband" element
+         */
+        public noNamespace.ResultDocument2.Result.Broadband addNewBroadband()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Broadband target = null;
+                target = (noNamespace.ResultDocument2.Result.Broadband)get_store().add_element_user(BROADBAND$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "broadband" element
+         */
+        public void removeBroadband(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(BROADBAND$0, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "wireless" elements
+         */
+        public noNamespace.ResultDocument2.Result.Wireless[] getWirelessArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(WIRELESS$2, targetList);
+                noNamespace.ResultDocument2.Result.Wireless[] result = new noNamespace.ResultDocument2.Result.Wireless[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "wireless" element
+         */
+        public noNamespace.ResultDocument2.Result.Wireless getWirelessArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Wireless target = null;
+                target = (noNamespace.ResultDocument2.Result.Wireless)get_store().find_element_user(WIRELESS$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "wireless" element
+         */
+        public int sizeOfWirelessArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(WIRELESS$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "wireless" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setWirelessArray(noNamespace.ResultDocument2.Result.Wireless[] wirelessArray)
+        {
+            check_orphaned();
+            arraySetterHelper(wirelessArray, WIRELESS$2);
+        }
+        
+        /**
+         * Sets ith "wireless" element
+         */
+        public void setWirelessArray(int i, noNamespace.ResultDocument2.Result.Wireless wireless)
+        {
+            generatedSetterHelperImpl(wireless, WIRELESS$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "wireless" element
+         */
+        public noNamespace.ResultDocument2.Result.Wireless insertNewWireless(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Wireless target = null;
+                target = (noNamespace.ResultDocument2.Result.Wireless)get_store().insert_element_user(WIRELESS$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "wireless" element
+         */
+        public noNamespace.ResultDocument2.Result.Wireless addNewWireless()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ResultDocument2.Result.Wireless target = null;
+                target = (noNamespace.ResultDocument2.Result.Wireless)get_store().add_element_user(WIRELESS$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "wireless" element
+         */
+        public void removeWireless(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(WIRELESS$2, i);
+            }
+        }
+        /**
+         * An XML broadband(@).
+         *
+         * This is a complex type.
+         */
+        public static class BroadbandImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ResultDocument2.Result.Broadband
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public BroadbandImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName ORDERID$0 = 
+                new javax.xml.namespace.QName("", "ORDER_ID");
+            private static final javax.xml.namespace.QName TOTALORDERAMOUNT$2 = 
+                new javax.xml.namespace.QName("", "TOTAL_ORDER_AMOUNT");
+            private static final javax.xml.namespace.QName CUSTOMERID$4 = 
+                new javax.xml.namespace.QName("", "CUSTOMER_ID");
+            private static final javax.xml.namespace.QName FIRSTNAME$6 = 
+                new javax.xml.namespace.QName("", "FIRST_NAME");
+            private static final javax.xml.namespace.QName LASTNAME$8 = 
+                new javax.xml.namespace.QName("", "LAST_NAME");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(5);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case 255370180:
+                      if (name.equals(TOTALORDERAMOUNT$2))
+                          return ORDINAL$BASE + 1;
+                      break;
+                    case 353659610:
+                      if (name.equals(FIRSTNAME$6))
+                          return ORDINAL$BASE + 3;
+                      break;
+                    case 380930332:
+                      if (name.equals(CUSTOMERID$4))
+                          return ORDINAL$BASE + 2;
+                      break;
+                    case 534302356:
+                      if (name.equals(LASTNAME$8))
+                          return ORDINAL$BASE + 4;
+                      break;
+                    case 2016962508:
+                      if (name.equals(ORDERID$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            public java.lang.String getORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$0, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            public void setORDERID(java.lang.String orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERID$0);
+                    }
+                    target.setStringValue(orderid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            public void xsetORDERID(org.apache.xmlbeans.XmlString orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ORDERID$0);
+                    }
+                    target.set(orderid);
+                }
+            }
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public java.math.BigDecimal getTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getBigDecimalValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TOTALORDERAMOUNT$2);
+                    }
+                    target.setBigDecimalValue(totalorderamount);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(TOTALORDERAMOUNT$2);
+                    }
+                    target.set(totalorderamount);
+                }
+            }
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            public java.lang.String getCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            public void setCUSTOMERID(java.lang.String customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.setStringValue(customerid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            public void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.set(customerid);
+                }
+            }
+            
+            /**
+             * Gets the "FIRST_NAME" element
+             */
+            public java.lang.String getFIRSTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "FIRST_NAME" element
+             */
+            public org.apache.xmlbeans.XmlString xgetFIRSTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$6, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "FIRST_NAME" element
+             */
+            public void setFIRSTNAME(java.lang.String firstname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$6);
+                    }
+                    target.setStringValue(firstname);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "FIRST_NAME" element
+             */
+            public void xsetFIRSTNAME(org.apache.xmlbeans.XmlString firstname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$6);
+                    }
+                    target.set(firstname);
+                }
+            }
+            
+            /**
+             * Gets the "LAST_NAME" element
+             */
+            public java.lang.String getLASTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "LAST_NAME" element
+             */
+            public org.apache.xmlbeans.XmlString xgetLASTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$8, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "LAST_NAME" element
+             */
+            public void setLASTNAME(java.lang.String lastname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$8);
+                    }
+                    target.setStringValue(lastname);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "LAST_NAME" element
+             */
+            public void xsetLASTNAME(org.apache.xmlbeans.XmlString lastname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$8);
+                    }
+                    target.set(lastname);
+                }
+            }
+        }
+        /**
+         * An XML wireless(@).
+         *
+         * This is a complex type.
+         */
+        public static class WirelessImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ResultDocument2.Result.Wireless
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public WirelessImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName ORDERID$0 = 
+                new javax.xml.namespace.QName("", "ORDER_ID");
+            private static final javax.xml.namespace.QName TOTALORDERAMOUNT$2 = 
+                new javax.xml.namespace.QName("", "TOTAL_ORDER_AMOUNT");
+            private static final javax.xml.namespace.QName CUSTOMERID$4 = 
+                new javax.xml.namespace.QName("", "CUSTOMER_ID");
+            private static final javax.xml.namespace.QName FIRSTNAME$6 = 
+                new javax.xml.namespace.QName("", "FIRST_NAME");
+            private static final javax.xml.namespace.QName LASTNAME$8 = 
+                new javax.xml.namespace.QName("", "LAST_NAME");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(5);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case 255370180:
+                      if (name.equals(TOTALORDERAMOUNT$2))
+                          return ORDINAL$BASE + 1;
+                      break;
+                    case 353659610:
+                      if (name.equals(FIRSTNAME$6))
+                          return ORDINAL$BASE + 3;
+                      break;
+                    case 380930332:
+                      if (name.equals(CUSTOMERID$4))
+                          return ORDINAL$BASE + 2;
+                      break;
+                    case 534302356:
+                      if (name.equals(LASTNAME$8))
+                          return ORDINAL$BASE + 4;
+                      break;
+                    case 2016962508:
+                      if (name.equals(ORDERID$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets the "ORDER_ID" element
+             */
+            public java.lang.String getORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "ORDER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetORDERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$0, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ORDER_ID" element
+             */
+            public void setORDERID(java.lang.String orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERID$0);
+                    }
+                    target.setStringValue(orderid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "ORDER_ID" element
+             */
+            public void xsetORDERID(org.apache.xmlbeans.XmlString orderid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ORDERID$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ORDERID$0);
+                    }
+                    target.set(orderid);
+                }
+            }
+            
+            /**
+             * Gets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public java.math.BigDecimal getTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getBigDecimalValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public org.apache.xmlbeans.XmlDecimal xgetTOTALORDERAMOUNT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void setTOTALORDERAMOUNT(java.math.BigDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TOTALORDERAMOUNT$2);
+                    }
+                    target.setBigDecimalValue(totalorderamount);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "TOTAL_ORDER_AMOUNT" element
+             */
+            public void xsetTOTALORDERAMOUNT(org.apache.xmlbeans.XmlDecimal totalorderamount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(TOTALORDERAMOUNT$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(TOTALORDERAMOUNT$2);
+                    }
+                    target.set(totalorderamount);
+                }
+            }
+            
+            /**
+             * Gets the "CUSTOMER_ID" element
+             */
+            public java.lang.String getCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "CUSTOMER_ID" element
+             */
+            public org.apache.xmlbeans.XmlString xgetCUSTOMERID()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "CUSTOMER_ID" element
+             */
+            public void setCUSTOMERID(java.lang.String customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.setStringValue(customerid);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "CUSTOMER_ID" element
+             */
+            public void xsetCUSTOMERID(org.apache.xmlbeans.XmlString customerid)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CUSTOMERID$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CUSTOMERID$4);
+                    }
+                    target.set(customerid);
+                }
+            }
+            
+            /**
+             * Gets the "FIRST_NAME" element
+             */
+            public java.lang.String getFIRSTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "FIRST_NAME" element
+             */
+            public org.apache.xmlbeans.XmlString xgetFIRSTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$6, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "FIRST_NAME" element
+             */
+            public void setFIRSTNAME(java.lang.String firstname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$6);
+                    }
+                    target.setStringValue(firstname);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "FIRST_NAME" element
+             */
+            public void xsetFIRSTNAME(org.apache.xmlbeans.XmlString firstname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$6);
+                    }
+                    target.set(firstname);
+                }
+            }
+            
+            /**
+             * Gets the "LAST_NAME" element
+             */
+            public java.lang.String getLASTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "LAST_NAME" element
+             */
+            public org.apache.xmlbeans.XmlString xgetLASTNAME()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$8, 0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "LAST_NAME" element
+             */
+            public void setLASTNAME(java.lang.String lastname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$8);
+                    }
+                    target.setStringValue(lastname);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "LAST_NAME" element
+             */
+            public void xsetLASTNAME(org.apache.xmlbeans.XmlString lastname)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$8);
+                    }
+                    target.set(lastname);
+                }
+            }
+        }
+    }
+}
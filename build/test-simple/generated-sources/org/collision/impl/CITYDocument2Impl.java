@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: CITY
+ * Namespace: http://www.collision.org
+ * Java type: org.collision.CITYDocument2
+ *
+ * Automatically generated - do not modify.
+ */
+package org.collision.impl;
+/**
+ * A document containing one CITY(@http://www.collision.org) element.
+ *
+ * This is a complex type.
+ */
+public class CITYDocument2Impl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.collision.CITYDocument2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CITYDocument2Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITY$0 = 
+        new javax.xml.namespace.QName("http://www.collision.org", "CITY");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2068843:
+                if (name.equals(CITY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CITY" element
+     */
+    public long getCITY()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(CITY$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                return 0L;
+            }
+            return target.getLongValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CITY" element
+     */
+    public org.apache.xmlbeans.XmlLong xgetCITY()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLong target = null;
+            target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(CITY$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CITY" element
+     */
+    public void setCITY(long city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITY$0);
+            }
+            target.setLongValue(city);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CITY" element
+     */
+    public void xsetCITY(org.apache.xmlbeans.XmlLong city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLong target = null;
+            target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLong)get_store().add_element_user(CITY$0);
+            }
+            target.set(city);
+        }
+    }
+}
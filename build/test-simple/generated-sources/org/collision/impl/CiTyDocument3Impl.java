@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: CiTy
+ * Namespace: http://www.collision.org
+ * Java type: org.collision.CiTyDocument3
+ *
+ * Automatically generated - do not modify.
+ */
+package org.collision.impl;
+/**
+ * A document containing one CiTy(@http://www.collision.org) element.
+ *
+ * This is a complex type.
+ */
+public class CiTyDocument3Impl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.collision.CiTyDocument3
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CiTyDocument3Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITY$0 = 
+        new javax.xml.namespace.QName("http://www.collision.org", "CiTy");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2099627:
+                if (name.equals(CITY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CiTy" element
+     */
+    public float getCiTy()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(CITY$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                return 0.0f;
+            }
+            return target.getFloatValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CiTy" element
+     */
+    public org.apache.xmlbeans.XmlFloat xgetCiTy()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(CITY$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CiTy" element
+     */
+    public void setCiTy(float ciTy)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITY$0);
+            }
+            target.setFloatValue(ciTy);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CiTy" element
+     */
+    public void xsetCiTy(org.apache.xmlbeans.XmlFloat ciTy)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlFloat)get_store().add_element_user(CITY$0);
+            }
+            target.set(ciTy);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: City
+ * Namespace: http://www.collision.org
+ * Java type: org.collision.CityDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.collision.impl;
+/**
+ * A document containing one City(@http://www.collision.org) element.
+ *
+ * This is a complex type.
+ */
+public class CityDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.collision.CityDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CityDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITY$0 = 
+        new javax.xml.namespace.QName("http://www.collision.org", "City");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2100619:
+                if (name.equals(CITY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "City" element
+     */
+    public java.lang.String getCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "City" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "City" element
+     */
+    public void setCity(java.lang.String city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITY$0);
+            }
+            target.setStringValue(city);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "City" element
+     */
+    public void xsetCity(org.apache.xmlbeans.XmlString city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CITY$0);
+            }
+            target.set(city);
+        }
+    }
+}
@@ -0,0 +1,608 @@
+/*
+ * XML Type:  person
+ * Namespace: http://openuri.org/mytest
+ * Java type: org.openuri.mytest.Person
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.mytest;
+
+
+/**
+ * An XML person(@http://openuri.org/mytest).
+ *
+ * This is a complex type.
+ */
+public interface Person extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Person.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("personc325type");
+    
+    /**
+     * Gets the "firstname" element
+     */
+    java.lang.String getFirstname();
+    
+    /**
+     * Gets (as xml) the "firstname" element
+     */
+    org.apache.xmlbeans.XmlString xgetFirstname();
+    
+    /**
+     * Sets the "firstname" element
+     */
+    void setFirstname(java.lang.String firstname);
+    
+    /**
+     * Sets (as xml) the "firstname" element
+     */
+    void xsetFirstname(org.apache.xmlbeans.XmlString firstname);
+    
+    /**
+     * Gets array of all "number" elements
+     */
+    int[] getNumberArray();
+    
+    /**
+     * Gets ith "number" element
+     */
+    int getNumberArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "number" elements
+     */
+    org.openuri.mytest.Person.Number[] xgetNumberArray();
+    
+    /**
+     * Gets (as xml) ith "number" element
+     */
+    org.openuri.mytest.Person.Number xgetNumberArray(int i);
+    
+    /**
+     * Returns number of "number" element
+     */
+    int sizeOfNumberArray();
+    
+    /**
+     * Sets array of all "number" element
+     */
+    void setNumberArray(int[] numberArray);
+    
+    /**
+     * Sets ith "number" element
+     */
+    void setNumberArray(int i, int number);
+    
+    /**
+     * Sets (as xml) array of all "number" element
+     */
+    void xsetNumberArray(org.openuri.mytest.Person.Number[] numberArray);
+    
+    /**
+     * Sets (as xml) ith "number" element
+     */
+    void xsetNumberArray(int i, org.openuri.mytest.Person.Number number);
+    
+    /**
+     * Inserts the value as the ith "number" element
+     */
+    void insertNumber(int i, int number);
+    
+    /**
+     * Appends the value as the last "number" element
+     */
+    void addNumber(int number);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "number" element
+     */
+    org.openuri.mytest.Person.Number insertNewNumber(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "number" element
+     */
+    org.openuri.mytest.Person.Number addNewNumber();
+    
+    /**
+     * Removes the ith "number" element
+     */
+    void removeNumber(int i);
+    
+    /**
+     * Gets array of all "birthday" elements
+     */
+    java.util.Calendar[] getBirthdayArray();
+    
+    /**
+     * Gets ith "birthday" element
+     */
+    java.util.Calendar getBirthdayArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "birthday" elements
+     */
+    org.apache.xmlbeans.XmlDate[] xgetBirthdayArray();
+    
+    /**
+     * Gets (as xml) ith "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate xgetBirthdayArray(int i);
+    
+    /**
+     * Returns number of "birthday" element
+     */
+    int sizeOfBirthdayArray();
+    
+    /**
+     * Sets array of all "birthday" element
+     */
+    void setBirthdayArray(java.util.Calendar[] birthdayArray);
+    
+    /**
+     * Sets ith "birthday" element
+     */
+    void setBirthdayArray(int i, java.util.Calendar birthday);
+    
+    /**
+     * Sets (as xml) array of all "birthday" element
+     */
+    void xsetBirthdayArray(org.apache.xmlbeans.XmlDate[] birthdayArray);
+    
+    /**
+     * Sets (as xml) ith "birthday" element
+     */
+    void xsetBirthdayArray(int i, org.apache.xmlbeans.XmlDate birthday);
+    
+    /**
+     * Inserts the value as the ith "birthday" element
+     */
+    void insertBirthday(int i, java.util.Calendar birthday);
+    
+    /**
+     * Appends the value as the last "birthday" element
+     */
+    void addBirthday(java.util.Calendar birthday);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate insertNewBirthday(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate addNewBirthday();
+    
+    /**
+     * Removes the ith "birthday" element
+     */
+    void removeBirthday(int i);
+    
+    /**
+     * Gets the "hex" element
+     */
+    byte[] getHex();
+    
+    /**
+     * Gets (as xml) the "hex" element
+     */
+    org.apache.xmlbeans.XmlHexBinary xgetHex();
+    
+    /**
+     * Sets the "hex" element
+     */
+    void setHex(byte[] hex);
+    
+    /**
+     * Sets (as xml) the "hex" element
+     */
+    void xsetHex(org.apache.xmlbeans.XmlHexBinary hex);
+    
+    /**
+     * Gets the bytes of the "hex" element as a stream, decoded as it is read
+     */
+    java.io.InputStream getHexStream();
+    
+    /**
+     * Sets the "hex" element to the bytes read from the stream
+     */
+    void setHexStream(java.io.InputStream hexStream) throws java.io.IOException;
+    
+    /**
+     * Gets the "base64" element
+     */
+    byte[] getBase64();
+    
+    /**
+     * Gets (as xml) the "base64" element
+     */
+    org.apache.xmlbeans.XmlBase64Binary xgetBase64();
+    
+    /**
+     * Sets the "base64" element
+     */
+    void setBase64(byte[] base64);
+    
+    /**
+     * Sets (as xml) the "base64" element
+     */
+    void xsetBase64(org.apache.xmlbeans.XmlBase64Binary base64);
+    
+    /**
+     * Gets the bytes of the "base64" element as a stream, decoded as it is read
+     */
+    java.io.InputStream getBase64Stream();
+    
+    /**
+     * Sets the "base64" element to the bytes read from the stream
+     */
+    void setBase64Stream(java.io.InputStream base64Stream) throws java.io.IOException;
+    
+    /**
+     * Gets the "gender" attribute
+     */
+    org.openuri.mytest.Person.Gender.Enum getGender();
+    
+    /**
+     * Gets (as xml) the "gender" attribute
+     */
+    org.openuri.mytest.Person.Gender xgetGender();
+    
+    /**
+     * True if has "gender" attribute
+     */
+    boolean isSetGender();
+    
+    /**
+     * Sets the "gender" attribute
+     */
+    void setGender(org.openuri.mytest.Person.Gender.Enum gender);
+    
+    /**
+     * Sets (as xml) the "gender" attribute
+     */
+    void xsetGender(org.openuri.mytest.Person.Gender gender);
+    
+    /**
+     * Unsets the "gender" attribute
+     */
+    void unsetGender();
+    
+    /**
+     * Gets the "hexAtt" attribute
+     */
+    byte[] getHexAtt();
+    
+    /**
+     * Gets (as xml) the "hexAtt" attribute
+     */
+    org.openuri.mytest.Person.HexAtt xgetHexAtt();
+    
+    /**
+     * True if has "hexAtt" attribute
+     */
+    boolean isSetHexAtt();
+    
+    /**
+     * Sets the "hexAtt" attribute
+     */
+    void setHexAtt(byte[] hexAtt);
+    
+    /**
+     * Sets (as xml) the "hexAtt" attribute
+     */
+    void xsetHexAtt(org.openuri.mytest.Person.HexAtt hexAtt);
+    
+    /**
+     * Unsets the "hexAtt" attribute
+     */
+    void unsetHexAtt();
+    
+    /**
+     * Gets the bytes of the "hexAtt" attribute as a stream, decoded as it is read
+     */
+    java.io.InputStream getHexAttStream();
+    
+    /**
+     * Sets the "hexAtt" attribute to the bytes read from the stream
+     */
+    void setHexAttStream(java.io.InputStream hexAttStream) throws java.io.IOException;
+    
+    /**
+     * Gets the "base64Att" attribute
+     */
+    byte[] getBase64Att();
+    
+    /**
+     * Gets (as xml) the "base64Att" attribute
+     */
+    org.openuri.mytest.Person.Base64Att xgetBase64Att();
+    
+    /**
+     * True if has "base64Att" attribute
+     */
+    boolean isSetBase64Att();
+    
+    /**
+     * Sets the "base64Att" attribute
+     */
+    void setBase64Att(byte[] base64Att);
+    
+    /**
+     * Sets (as xml) the "base64Att" attribute
+     */
+    void xsetBase64Att(org.openuri.mytest.Person.Base64Att base64Att);
+    
+    /**
+     * Unsets the "base64Att" attribute
+     */
+    void unsetBase64Att();
+    
+    /**
+     * Gets the bytes of the "base64Att" attribute as a stream, decoded as it is read
+     */
+    java.io.InputStream getBase64AttStream();
+    
+    /**
+     * Sets the "base64Att" attribute to the bytes read from the stream
+     */
+    void setBase64AttStream(java.io.InputStream base64AttStream) throws java.io.IOException;
+    
+    /**
+     * An XML number(@http://openuri.org/mytest).
+     *
+     * This is an atomic type that is a restriction of org.openuri.mytest.Person$Number.
+     */
+    public interface Number extends org.apache.xmlbeans.XmlInteger
+    {
+        int getIntValue();
+        void setIntValue(int i);
+        /** @deprecated */
+        int intValue();
+        /** @deprecated */
+        void set(int i);
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Number.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("number7f20elemtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.mytest.Person.Number newValue(java.lang.Object obj) {
+              return (org.openuri.mytest.Person.Number) type.newValue( obj ); }
+            
+            public static org.openuri.mytest.Person.Number newInstance() {
+              return (org.openuri.mytest.Person.Number) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.mytest.Person.Number newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.mytest.Person.Number) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML gender(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.mytest.Person$Gender.
+     */
+    public interface Gender extends org.apache.xmlbeans.XmlNMTOKEN
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Gender.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("genderb9a4attrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum MALE = Enum.forString("male");
+        static final Enum FEMALE = Enum.forString("female");
+        
+        static final int INT_MALE = Enum.INT_MALE;
+        static final int INT_FEMALE = Enum.INT_FEMALE;
+        
+        /**
+         * Enumeration value class for org.openuri.mytest.Person$Gender.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_MALE
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_MALE = 1;
+            static final int INT_FEMALE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("male", INT_MALE),
+                    new Enum("female", INT_FEMALE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.mytest.Person.Gender newValue(java.lang.Object obj) {
+              return (org.openuri.mytest.Person.Gender) type.newValue( obj ); }
+            
+            public static org.openuri.mytest.Person.Gender newInstance() {
+              return (org.openuri.mytest.Person.Gender) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.mytest.Person.Gender newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.mytest.Person.Gender) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML hexAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.mytest.Person$HexAtt.
+     */
+    public interface HexAtt extends org.apache.xmlbeans.XmlHexBinary
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HexAtt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("hexattf8bfattrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.mytest.Person.HexAtt newValue(java.lang.Object obj) {
+              return (org.openuri.mytest.Person.HexAtt) type.newValue( obj ); }
+            
+            public static org.openuri.mytest.Person.HexAtt newInstance() {
+              return (org.openuri.mytest.Person.HexAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.mytest.Person.HexAtt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.mytest.Person.HexAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML base64Att(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.mytest.Person$Base64Att.
+     */
+    public interface Base64Att extends org.apache.xmlbeans.XmlBase64Binary
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Base64Att.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("base64att42abattrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.mytest.Person.Base64Att newValue(java.lang.Object obj) {
+              return (org.openuri.mytest.Person.Base64Att) type.newValue( obj ); }
+            
+            public static org.openuri.mytest.Person.Base64Att newInstance() {
+              return (org.openuri.mytest.Person.Base64Att) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.mytest.Person.Base64Att newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.mytest.Person.Base64Att) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.mytest.Person newInstance() {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.mytest.Person newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.mytest.Person parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.mytest.Person parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.mytest.Person parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.mytest.Person parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.mytest.Person parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.mytest.Person parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.mytest.Person parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.mytest.Person parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.mytest.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.mytest.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.mytest.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * XML Type:  simplicity
+ * Namespace: http://openuri.org/mytest
+ * Java type: org.openuri.mytest.Simplicity
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.mytest;
+
+
+/**
+ * An XML simplicity(@http://openuri.org/mytest).
+ *
+ * This is an atomic type that is a restriction of org.openuri.mytest.Simplicity.
+ */
+public interface Simplicity extends org.openuri.mytest.Thousand
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Simplicity.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSIMPLE").resolveHandle("simplicity2471type");
+    
+    /**
+     * Gets the "note" attribute
+     */
+    java.lang.String getNote();
+    
+    /**
+     * Gets (as xml) the "note" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetNote();
+    
+    /**
+     * True if has "note" attribute
+     */
+    boolean isSetNote();
+    
+    /**
+     * Sets the "note" attribute
+     */
+    void setNote(java.lang.String note);
+    
+    /**
+     * Sets (as xml) the "note" attribute
+     */
+    void xsetNote(org.apache.xmlbeans.XmlString note);
+    
+    /**
+     * Unsets the "note" attribute
+     */
+    void unsetNote();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.mytest.Simplicity newInstance() {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.mytest.Simplicity newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.mytest.Simplicity parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.mytest.Simplicity parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.mytest.Simplicity parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.mytest.Simplicity parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.mytest.Simplicity parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.mytest.Simplicity parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.mytest.Simplicity parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.mytest.Simplicity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
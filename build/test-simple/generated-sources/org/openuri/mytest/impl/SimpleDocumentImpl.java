@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: simple
+ * Namespace: http://openuri.org/mytest
+ * Java type: org.openuri.mytest.SimpleDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.mytest.impl;
+/**
+ * A document containing one simple(@http://openuri.org/mytest) element.
+ *
+ * This is a complex type.
+ */
+public class SimpleDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.mytest.SimpleDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/mytest", "simple");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -902286926:
+                if (name.equals(SIMPLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "simple" element
+     */
+    public org.openuri.mytest.Simplicity getSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.mytest.Simplicity target = null;
+            target = (org.openuri.mytest.Simplicity)get_store().find_element_user(SIMPLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "simple" element
+     */
+    public void setSimple(org.openuri.mytest.Simplicity simple)
+    {
+        generatedSetterHelperImpl(simple, SIMPLE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "simple" element
+     */
+    public org.openuri.mytest.Simplicity addNewSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.mytest.Simplicity target = null;
+            target = (org.openuri.mytest.Simplicity)get_store().add_element_user(SIMPLE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * XML Type:  simplicity
+ * Namespace: http://openuri.org/mytest
+ * Java type: org.openuri.mytest.Simplicity
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.mytest.impl;
+/**
+ * An XML simplicity(@http://openuri.org/mytest).
+ *
+ * This is an atomic type that is a restriction of org.openuri.mytest.Simplicity.
+ */
+public class SimplicityImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.openuri.mytest.Simplicity
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimplicityImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected SimplicityImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName NOTE$0 = 
+        new javax.xml.namespace.QName("", "note");
+    
+    
+    /**
+     * Gets the "note" attribute
+     */
+    public java.lang.String getNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NOTE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "note" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NOTE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "note" attribute
+     */
+    public boolean isSetNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NOTE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "note" attribute
+     */
+    public void setNote(java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NOTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NOTE$0);
+            }
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "note" attribute
+     */
+    public void xsetNote(org.apache.xmlbeans.XmlString note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NOTE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NOTE$0);
+            }
+            target.set(note);
+        }
+    }
+    
+    /**
+     * Unsets the "note" attribute
+     */
+    public void unsetNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NOTE$0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  thousand
+ * Namespace: http://openuri.org/mytest
+ * Java type: org.openuri.mytest.Thousand
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.mytest.impl;
+/**
+ * An XML thousand(@http://openuri.org/mytest).
+ *
+ * This is an atomic type that is a restriction of org.openuri.mytest.Thousand.
+ */
+public class ThousandImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.openuri.mytest.Thousand
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ThousandImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ThousandImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
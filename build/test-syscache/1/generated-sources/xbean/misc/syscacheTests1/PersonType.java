@@ -0,0 +1,166 @@
+/*
+ * XML Type:  personType
+ * Namespace: http://xbean/misc/SyscacheTests1
+ * Java type: xbean.misc.syscacheTests1.PersonType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests1;
+
+
+/**
+ * An XML personType(@http://xbean/misc/SyscacheTests1).
+ *
+ * This is a complex type.
+ */
+public interface PersonType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PersonType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sSYSCACHE").resolveHandle("persontypeccb7type");
+    
+    /**
+     * Gets the "FirstName" element
+     */
+    java.lang.String getFirstName();
+    
+    /**
+     * Gets (as xml) the "FirstName" element
+     */
+    org.apache.xmlbeans.XmlString xgetFirstName();
+    
+    /**
+     * Sets the "FirstName" element
+     */
+    void setFirstName(java.lang.String firstName);
+    
+    /**
+     * Sets (as xml) the "FirstName" element
+     */
+    void xsetFirstName(org.apache.xmlbeans.XmlString firstName);
+    
+    /**
+     * Gets the "LastName" element
+     */
+    java.lang.String getLastName();
+    
+    /**
+     * Gets (as xml) the "LastName" element
+     */
+    org.apache.xmlbeans.XmlString xgetLastName();
+    
+    /**
+     * Sets the "LastName" element
+     */
+    void setLastName(java.lang.String lastName);
+    
+    /**
+     * Sets (as xml) the "LastName" element
+     */
+    void xsetLastName(org.apache.xmlbeans.XmlString lastName);
+    
+    /**
+     * Gets the "Birthday" attribute
+     */
+    java.util.Calendar getBirthday();
+    
+    /**
+     * Gets (as xml) the "Birthday" attribute
+     */
+    org.apache.xmlbeans.XmlDate xgetBirthday();
+    
+    /**
+     * True if has "Birthday" attribute
+     */
+    boolean isSetBirthday();
+    
+    /**
+     * Sets the "Birthday" attribute
+     */
+    void setBirthday(java.util.Calendar birthday);
+    
+    /**
+     * Sets (as xml) the "Birthday" attribute
+     */
+    void xsetBirthday(org.apache.xmlbeans.XmlDate birthday);
+    
+    /**
+     * Unsets the "Birthday" attribute
+     */
+    void unsetBirthday();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xbean.misc.syscacheTests1.PersonType newInstance() {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xbean.misc.syscacheTests1.PersonType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xbean.misc.syscacheTests1.PersonType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.misc.syscacheTests1.PersonType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xbean.misc.syscacheTests1.PersonType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xbean.misc.syscacheTests1.PersonType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Person
+ * Namespace: http://xbean/misc/SyscacheTests1
+ * Java type: xbean.misc.syscacheTests1.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests1.impl;
+/**
+ * A document containing one Person(@http://xbean/misc/SyscacheTests1) element.
+ *
+ * This is a complex type.
+ */
+public class PersonDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.misc.syscacheTests1.PersonDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("http://xbean/misc/SyscacheTests1", "Person");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1907849355:
+                if (name.equals(PERSON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Person" element
+     */
+    public xbean.misc.syscacheTests1.PersonType getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests1.PersonType target = null;
+            target = (xbean.misc.syscacheTests1.PersonType)get_store().find_element_user(PERSON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Person" element
+     */
+    public void setPerson(xbean.misc.syscacheTests1.PersonType person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Person" element
+     */
+    public xbean.misc.syscacheTests1.PersonType addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests1.PersonType target = null;
+            target = (xbean.misc.syscacheTests1.PersonType)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+}
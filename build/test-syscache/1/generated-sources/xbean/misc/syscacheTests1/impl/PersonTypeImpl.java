@@ -0,0 +1,276 @@
+/*
+ * XML Type:  personType
+ * Namespace: http://xbean/misc/SyscacheTests1
+ * Java type: xbean.misc.syscacheTests1.PersonType
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests1.impl;
+/**
+ * An XML personType(@http://xbean/misc/SyscacheTests1).
+ *
+ * This is a complex type.
+ */
+public class PersonTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.misc.syscacheTests1.PersonType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRSTNAME$0 = 
+        new javax.xml.namespace.QName("", "FirstName");
+    private static final javax.xml.namespace.QName LASTNAME$2 = 
+        new javax.xml.namespace.QName("", "LastName");
+    private static final javax.xml.namespace.QName BIRTHDAY$4 = 
+        new javax.xml.namespace.QName("", "Birthday");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1394955679:
+                if (name.equals(LASTNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 2136803643:
+                if (name.equals(FIRSTNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "FirstName" element
+     */
+    public java.lang.String getFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "FirstName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFirstName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "FirstName" element
+     */
+    public void setFirstName(java.lang.String firstName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.setStringValue(firstName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "FirstName" element
+     */
+    public void xsetFirstName(org.apache.xmlbeans.XmlString firstName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.set(firstName);
+        }
+    }
+    
+    /**
+     * Gets the "LastName" element
+     */
+    public java.lang.String getLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LastName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLastName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LastName" element
+     */
+    public void setLastName(java.lang.String lastName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LASTNAME$2);
+            }
+            target.setStringValue(lastName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LastName" element
+     */
+    public void xsetLastName(org.apache.xmlbeans.XmlString lastName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LASTNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LASTNAME$2);
+            }
+            target.set(lastName);
+        }
+    }
+    
+    /**
+     * Gets the "Birthday" attribute
+     */
+    public java.util.Calendar getBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BIRTHDAY$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Birthday" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(BIRTHDAY$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "Birthday" attribute
+     */
+    public boolean isSetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(BIRTHDAY$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "Birthday" attribute
+     */
+    public void setBirthday(java.util.Calendar birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BIRTHDAY$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(BIRTHDAY$4);
+            }
+            target.setCalendarValue(birthday);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Birthday" attribute
+     */
+    public void xsetBirthday(org.apache.xmlbeans.XmlDate birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(BIRTHDAY$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(BIRTHDAY$4);
+            }
+            target.set(birthday);
+        }
+    }
+    
+    /**
+     * Unsets the "Birthday" attribute
+     */
+    public void unsetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(BIRTHDAY$4);
+        }
+    }
+}
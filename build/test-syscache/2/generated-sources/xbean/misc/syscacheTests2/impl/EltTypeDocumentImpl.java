@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EltType
+ * Namespace: http://xbean/misc/SyscacheTests2
+ * Java type: xbean.misc.syscacheTests2.EltTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests2.impl;
+/**
+ * A document containing one EltType(@http://xbean/misc/SyscacheTests2) element.
+ *
+ * This is a complex type.
+ */
+public class EltTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.misc.syscacheTests2.EltTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EltTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELTTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/misc/SyscacheTests2", "EltType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 14943591:
+                if (name.equals(ELTTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EltType" element
+     */
+    public xbean.misc.syscacheTests2.ElementT getEltType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.ElementT target = null;
+            target = (xbean.misc.syscacheTests2.ElementT)get_store().find_element_user(ELTTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EltType" element
+     */
+    public void setEltType(xbean.misc.syscacheTests2.ElementT eltType)
+    {
+        generatedSetterHelperImpl(eltType, ELTTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EltType" element
+     */
+    public xbean.misc.syscacheTests2.ElementT addNewEltType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.ElementT target = null;
+            target = (xbean.misc.syscacheTests2.ElementT)get_store().add_element_user(ELTTYPE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: EmptyType
+ * Namespace: http://xbean/misc/SyscacheTests2
+ * Java type: xbean.misc.syscacheTests2.EmptyTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests2.impl;
+/**
+ * A document containing one EmptyType(@http://xbean/misc/SyscacheTests2) element.
+ *
+ * This is a complex type.
+ */
+public class EmptyTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.misc.syscacheTests2.EmptyTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmptyTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPTYTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/misc/SyscacheTests2", "EmptyType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 584006151:
+                if (name.equals(EMPTYTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EmptyType" element
+     */
+    public xbean.misc.syscacheTests2.EmptyT getEmptyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.EmptyT target = null;
+            target = (xbean.misc.syscacheTests2.EmptyT)get_store().find_element_user(EMPTYTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EmptyType" element
+     */
+    public void setEmptyType(xbean.misc.syscacheTests2.EmptyT emptyType)
+    {
+        generatedSetterHelperImpl(emptyType, EMPTYTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EmptyType" element
+     */
+    public xbean.misc.syscacheTests2.EmptyT addNewEmptyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.EmptyT target = null;
+            target = (xbean.misc.syscacheTests2.EmptyT)get_store().add_element_user(EMPTYTYPE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: MixedType
+ * Namespace: http://xbean/misc/SyscacheTests2
+ * Java type: xbean.misc.syscacheTests2.MixedTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xbean.misc.syscacheTests2.impl;
+/**
+ * A document containing one MixedType(@http://xbean/misc/SyscacheTests2) element.
+ *
+ * This is a complex type.
+ */
+public class MixedTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xbean.misc.syscacheTests2.MixedTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MixedTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIXEDTYPE$0 = 
+        new javax.xml.namespace.QName("http://xbean/misc/SyscacheTests2", "MixedType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1310770763:
+                if (name.equals(MIXEDTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "MixedType" element
+     */
+    public xbean.misc.syscacheTests2.MixedT getMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.MixedT target = null;
+            target = (xbean.misc.syscacheTests2.MixedT)get_store().find_element_user(MIXEDTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "MixedType" element
+     */
+    public void setMixedType(xbean.misc.syscacheTests2.MixedT mixedType)
+    {
+        generatedSetterHelperImpl(mixedType, MIXEDTYPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "MixedType" element
+     */
+    public xbean.misc.syscacheTests2.MixedT addNewMixedType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xbean.misc.syscacheTests2.MixedT target = null;
+            target = (xbean.misc.syscacheTests2.MixedT)get_store().add_element_user(MIXEDTYPE$0);
+            return target;
+        }
+    }
+}
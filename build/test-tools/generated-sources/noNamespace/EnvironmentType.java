@@ -0,0 +1,349 @@
+/*
+ * XML Type:  environmentType
+ * Namespace: 
+ * Java type: noNamespace.EnvironmentType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML environmentType(@).
+ *
+ * This is a complex type.
+ */
+public interface EnvironmentType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EnvironmentType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("environmenttypeaa64type");
+    
+    /**
+     * Gets array of all "env-attribute" elements
+     */
+    noNamespace.EnvironmentType.EnvAttribute[] getEnvAttributeArray();
+    
+    /**
+     * Gets ith "env-attribute" element
+     */
+    noNamespace.EnvironmentType.EnvAttribute getEnvAttributeArray(int i);
+    
+    /**
+     * Returns number of "env-attribute" element
+     */
+    int sizeOfEnvAttributeArray();
+    
+    /**
+     * Sets array of all "env-attribute" element
+     */
+    void setEnvAttributeArray(noNamespace.EnvironmentType.EnvAttribute[] envAttributeArray);
+    
+    /**
+     * Sets ith "env-attribute" element
+     */
+    void setEnvAttributeArray(int i, noNamespace.EnvironmentType.EnvAttribute envAttribute);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-attribute" element
+     */
+    noNamespace.EnvironmentType.EnvAttribute insertNewEnvAttribute(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-attribute" element
+     */
+    noNamespace.EnvironmentType.EnvAttribute addNewEnvAttribute();
+    
+    /**
+     * Removes the ith "env-attribute" element
+     */
+    void removeEnvAttribute(int i);
+    
+    /**
+     * Gets the "hosttype" attribute
+     */
+    java.lang.String getHosttype();
+    
+    /**
+     * Gets (as xml) the "hosttype" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetHosttype();
+    
+    /**
+     * True if has "hosttype" attribute
+     */
+    boolean isSetHosttype();
+    
+    /**
+     * Sets the "hosttype" attribute
+     */
+    void setHosttype(java.lang.String hosttype);
+    
+    /**
+     * Sets (as xml) the "hosttype" attribute
+     */
+    void xsetHosttype(org.apache.xmlbeans.XmlString hosttype);
+    
+    /**
+     * Unsets the "hosttype" attribute
+     */
+    void unsetHosttype();
+    
+    /**
+     * Gets the "primary" attribute
+     */
+    noNamespace.EnvironmentType.Primary.Enum getPrimary();
+    
+    /**
+     * Gets (as xml) the "primary" attribute
+     */
+    noNamespace.EnvironmentType.Primary xgetPrimary();
+    
+    /**
+     * True if has "primary" attribute
+     */
+    boolean isSetPrimary();
+    
+    /**
+     * Sets the "primary" attribute
+     */
+    void setPrimary(noNamespace.EnvironmentType.Primary.Enum primary);
+    
+    /**
+     * Sets (as xml) the "primary" attribute
+     */
+    void xsetPrimary(noNamespace.EnvironmentType.Primary primary);
+    
+    /**
+     * Unsets the "primary" attribute
+     */
+    void unsetPrimary();
+    
+    /**
+     * An XML env-attribute(@).
+     *
+     * This is a complex type.
+     */
+    public interface EnvAttribute extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EnvAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("envattributef09celemtype");
+        
+        /**
+         * Gets the "name" attribute
+         */
+        java.lang.String getName();
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetName();
+        
+        /**
+         * Sets the "name" attribute
+         */
+        void setName(java.lang.String name);
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        void xsetName(org.apache.xmlbeans.XmlString name);
+        
+        /**
+         * Gets the "value" attribute
+         */
+        java.lang.String getValue();
+        
+        /**
+         * Gets (as xml) the "value" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetValue();
+        
+        /**
+         * Sets the "value" attribute
+         */
+        void setValue(java.lang.String value);
+        
+        /**
+         * Sets (as xml) the "value" attribute
+         */
+        void xsetValue(org.apache.xmlbeans.XmlString value);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.EnvironmentType.EnvAttribute newInstance() {
+              return (noNamespace.EnvironmentType.EnvAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.EnvironmentType.EnvAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.EnvironmentType.EnvAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML primary(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.EnvironmentType$Primary.
+     */
+    public interface Primary extends org.apache.xmlbeans.XmlNMTOKEN
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Primary.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("primary924eattrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum TRUE = Enum.forString("TRUE");
+        static final Enum FALSE = Enum.forString("FALSE");
+        
+        static final int INT_TRUE = Enum.INT_TRUE;
+        static final int INT_FALSE = Enum.INT_FALSE;
+        
+        /**
+         * Enumeration value class for noNamespace.EnvironmentType$Primary.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_TRUE
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_TRUE = 1;
+            static final int INT_FALSE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("TRUE", INT_TRUE),
+                    new Enum("FALSE", INT_FALSE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.EnvironmentType.Primary newValue(java.lang.Object obj) {
+              return (noNamespace.EnvironmentType.Primary) type.newValue( obj ); }
+            
+            public static noNamespace.EnvironmentType.Primary newInstance() {
+              return (noNamespace.EnvironmentType.Primary) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.EnvironmentType.Primary newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.EnvironmentType.Primary) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.EnvironmentType newInstance() {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.EnvironmentType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.EnvironmentType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.EnvironmentType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.EnvironmentType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.EnvironmentType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.EnvironmentType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.EnvironmentType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.EnvironmentType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.EnvironmentType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.EnvironmentType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.EnvironmentType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.EnvironmentType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,684 @@
+/*
+ * An XML document type.
+ * Localname: test-log
+ * Namespace: 
+ * Java type: noNamespace.TestLogDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one test-log(@) element.
+ *
+ * This is a complex type.
+ */
+public interface TestLogDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestLogDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("testlog4302doctype");
+    
+    /**
+     * Gets the "test-log" element
+     */
+    noNamespace.TestLogDocument.TestLog getTestLog();
+    
+    /**
+     * Sets the "test-log" element
+     */
+    void setTestLog(noNamespace.TestLogDocument.TestLog testLog);
+    
+    /**
+     * Appends and returns a new empty "test-log" element
+     */
+    noNamespace.TestLogDocument.TestLog addNewTestLog();
+    
+    /**
+     * An XML test-log(@).
+     *
+     * This is a complex type.
+     */
+    public interface TestLog extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestLog.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("testlog4dcdelemtype");
+        
+        /**
+         * Gets the "environment" element
+         */
+        noNamespace.EnvironmentType getEnvironment();
+        
+        /**
+         * True if has "environment" element
+         */
+        boolean isSetEnvironment();
+        
+        /**
+         * Sets the "environment" element
+         */
+        void setEnvironment(noNamespace.EnvironmentType environment);
+        
+        /**
+         * Appends and returns a new empty "environment" element
+         */
+        noNamespace.EnvironmentType addNewEnvironment();
+        
+        /**
+         * Unsets the "environment" element
+         */
+        void unsetEnvironment();
+        
+        /**
+         * Gets the "header-info" element
+         */
+        noNamespace.TestLogDocument.TestLog.HeaderInfo getHeaderInfo();
+        
+        /**
+         * Sets the "header-info" element
+         */
+        void setHeaderInfo(noNamespace.TestLogDocument.TestLog.HeaderInfo headerInfo);
+        
+        /**
+         * Appends and returns a new empty "header-info" element
+         */
+        noNamespace.TestLogDocument.TestLog.HeaderInfo addNewHeaderInfo();
+        
+        /**
+         * Gets the "harness-info" element
+         */
+        noNamespace.TestLogDocument.TestLog.HarnessInfo getHarnessInfo();
+        
+        /**
+         * True if has "harness-info" element
+         */
+        boolean isSetHarnessInfo();
+        
+        /**
+         * Sets the "harness-info" element
+         */
+        void setHarnessInfo(noNamespace.TestLogDocument.TestLog.HarnessInfo harnessInfo);
+        
+        /**
+         * Appends and returns a new empty "harness-info" element
+         */
+        noNamespace.TestLogDocument.TestLog.HarnessInfo addNewHarnessInfo();
+        
+        /**
+         * Unsets the "harness-info" element
+         */
+        void unsetHarnessInfo();
+        
+        /**
+         * Gets array of all "test-result" elements
+         */
+        noNamespace.TestResultType[] getTestResultArray();
+        
+        /**
+         * Gets ith "test-result" element
+         */
+        noNamespace.TestResultType getTestResultArray(int i);
+        
+        /**
+         * Returns number of "test-result" element
+         */
+        int sizeOfTestResultArray();
+        
+        /**
+         * Sets array of all "test-result" element
+         */
+        void setTestResultArray(noNamespace.TestResultType[] testResultArray);
+        
+        /**
+         * Sets ith "test-result" element
+         */
+        void setTestResultArray(int i, noNamespace.TestResultType testResult);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test-result" element
+         */
+        noNamespace.TestResultType insertNewTestResult(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test-result" element
+         */
+        noNamespace.TestResultType addNewTestResult();
+        
+        /**
+         * Removes the ith "test-result" element
+         */
+        void removeTestResult(int i);
+        
+        /**
+         * Gets the "runid" attribute
+         */
+        java.lang.String getRunid();
+        
+        /**
+         * Gets (as xml) the "runid" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetRunid();
+        
+        /**
+         * Sets the "runid" attribute
+         */
+        void setRunid(java.lang.String runid);
+        
+        /**
+         * Sets (as xml) the "runid" attribute
+         */
+        void xsetRunid(org.apache.xmlbeans.XmlString runid);
+        
+        /**
+         * Gets the "testtype" attribute
+         */
+        noNamespace.TestLogDocument.TestLog.Testtype.Enum getTesttype();
+        
+        /**
+         * Gets (as xml) the "testtype" attribute
+         */
+        noNamespace.TestLogDocument.TestLog.Testtype xgetTesttype();
+        
+        /**
+         * Sets the "testtype" attribute
+         */
+        void setTesttype(noNamespace.TestLogDocument.TestLog.Testtype.Enum testtype);
+        
+        /**
+         * Sets (as xml) the "testtype" attribute
+         */
+        void xsetTesttype(noNamespace.TestLogDocument.TestLog.Testtype testtype);
+        
+        /**
+         * Gets the "release" attribute
+         */
+        java.lang.String getRelease();
+        
+        /**
+         * Gets (as xml) the "release" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetRelease();
+        
+        /**
+         * Sets the "release" attribute
+         */
+        void setRelease(java.lang.String release);
+        
+        /**
+         * Sets (as xml) the "release" attribute
+         */
+        void xsetRelease(org.apache.xmlbeans.XmlString release);
+        
+        /**
+         * Gets the "branch" attribute
+         */
+        java.lang.String getBranch();
+        
+        /**
+         * Gets (as xml) the "branch" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetBranch();
+        
+        /**
+         * True if has "branch" attribute
+         */
+        boolean isSetBranch();
+        
+        /**
+         * Sets the "branch" attribute
+         */
+        void setBranch(java.lang.String branch);
+        
+        /**
+         * Sets (as xml) the "branch" attribute
+         */
+        void xsetBranch(org.apache.xmlbeans.XmlString branch);
+        
+        /**
+         * Unsets the "branch" attribute
+         */
+        void unsetBranch();
+        
+        /**
+         * Gets the "hostname" attribute
+         */
+        java.lang.String getHostname();
+        
+        /**
+         * Gets (as xml) the "hostname" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetHostname();
+        
+        /**
+         * True if has "hostname" attribute
+         */
+        boolean isSetHostname();
+        
+        /**
+         * Sets the "hostname" attribute
+         */
+        void setHostname(java.lang.String hostname);
+        
+        /**
+         * Sets (as xml) the "hostname" attribute
+         */
+        void xsetHostname(org.apache.xmlbeans.XmlString hostname);
+        
+        /**
+         * Unsets the "hostname" attribute
+         */
+        void unsetHostname();
+        
+        /**
+         * An XML header-info(@).
+         *
+         * This is a complex type.
+         */
+        public interface HeaderInfo extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HeaderInfo.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("headerinfo86b7elemtype");
+            
+            /**
+             * Gets the "checksum" attribute
+             */
+            java.lang.String getChecksum();
+            
+            /**
+             * Gets (as xml) the "checksum" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetChecksum();
+            
+            /**
+             * True if has "checksum" attribute
+             */
+            boolean isSetChecksum();
+            
+            /**
+             * Sets the "checksum" attribute
+             */
+            void setChecksum(java.lang.String checksum);
+            
+            /**
+             * Sets (as xml) the "checksum" attribute
+             */
+            void xsetChecksum(org.apache.xmlbeans.XmlString checksum);
+            
+            /**
+             * Unsets the "checksum" attribute
+             */
+            void unsetChecksum();
+            
+            /**
+             * Gets the "resultcount" attribute
+             */
+            java.lang.String getResultcount();
+            
+            /**
+             * Gets (as xml) the "resultcount" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetResultcount();
+            
+            /**
+             * True if has "resultcount" attribute
+             */
+            boolean isSetResultcount();
+            
+            /**
+             * Sets the "resultcount" attribute
+             */
+            void setResultcount(java.lang.String resultcount);
+            
+            /**
+             * Sets (as xml) the "resultcount" attribute
+             */
+            void xsetResultcount(org.apache.xmlbeans.XmlString resultcount);
+            
+            /**
+             * Unsets the "resultcount" attribute
+             */
+            void unsetResultcount();
+            
+            /**
+             * Gets the "execaccount" attribute
+             */
+            java.lang.String getExecaccount();
+            
+            /**
+             * Gets (as xml) the "execaccount" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetExecaccount();
+            
+            /**
+             * Sets the "execaccount" attribute
+             */
+            void setExecaccount(java.lang.String execaccount);
+            
+            /**
+             * Sets (as xml) the "execaccount" attribute
+             */
+            void xsetExecaccount(org.apache.xmlbeans.XmlString execaccount);
+            
+            /**
+             * Gets the "execdate" attribute
+             */
+            java.lang.String getExecdate();
+            
+            /**
+             * Gets (as xml) the "execdate" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetExecdate();
+            
+            /**
+             * Sets the "execdate" attribute
+             */
+            void setExecdate(java.lang.String execdate);
+            
+            /**
+             * Sets (as xml) the "execdate" attribute
+             */
+            void xsetExecdate(org.apache.xmlbeans.XmlString execdate);
+            
+            /**
+             * Gets the "harnesstype" attribute
+             */
+            java.lang.String getHarnesstype();
+            
+            /**
+             * Gets (as xml) the "harnesstype" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetHarnesstype();
+            
+            /**
+             * Sets the "harnesstype" attribute
+             */
+            void setHarnesstype(java.lang.String harnesstype);
+            
+            /**
+             * Sets (as xml) the "harnesstype" attribute
+             */
+            void xsetHarnesstype(org.apache.xmlbeans.XmlString harnesstype);
+            
+            /**
+             * Gets the "testruntype" attribute
+             */
+            java.lang.String getTestruntype();
+            
+            /**
+             * Gets (as xml) the "testruntype" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetTestruntype();
+            
+            /**
+             * True if has "testruntype" attribute
+             */
+            boolean isSetTestruntype();
+            
+            /**
+             * Sets the "testruntype" attribute
+             */
+            void setTestruntype(java.lang.String testruntype);
+            
+            /**
+             * Sets (as xml) the "testruntype" attribute
+             */
+            void xsetTestruntype(org.apache.xmlbeans.XmlString testruntype);
+            
+            /**
+             * Unsets the "testruntype" attribute
+             */
+            void unsetTestruntype();
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestLogDocument.TestLog.HeaderInfo newInstance() {
+                  return (noNamespace.TestLogDocument.TestLog.HeaderInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestLogDocument.TestLog.HeaderInfo newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestLogDocument.TestLog.HeaderInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML harness-info(@).
+         *
+         * This is a complex type.
+         */
+        public interface HarnessInfo extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HarnessInfo.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("harnessinfoad04elemtype");
+            
+            /**
+             * Gets the "processconfig" attribute
+             */
+            java.lang.String getProcessconfig();
+            
+            /**
+             * Gets (as xml) the "processconfig" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetProcessconfig();
+            
+            /**
+             * True if has "processconfig" attribute
+             */
+            boolean isSetProcessconfig();
+            
+            /**
+             * Sets the "processconfig" attribute
+             */
+            void setProcessconfig(java.lang.String processconfig);
+            
+            /**
+             * Sets (as xml) the "processconfig" attribute
+             */
+            void xsetProcessconfig(org.apache.xmlbeans.XmlString processconfig);
+            
+            /**
+             * Unsets the "processconfig" attribute
+             */
+            void unsetProcessconfig();
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestLogDocument.TestLog.HarnessInfo newInstance() {
+                  return (noNamespace.TestLogDocument.TestLog.HarnessInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestLogDocument.TestLog.HarnessInfo newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestLogDocument.TestLog.HarnessInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML testtype(@).
+         *
+         * This is an atomic type that is a restriction of noNamespace.TestLogDocument$TestLog$Testtype.
+         */
+        public interface Testtype extends org.apache.xmlbeans.XmlNMTOKEN
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Testtype.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("testtype7bb9attrtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum AUTOMATED = Enum.forString("AUTOMATED");
+            static final Enum MANUAL = Enum.forString("MANUAL");
+            
+            static final int INT_AUTOMATED = Enum.INT_AUTOMATED;
+            static final int INT_MANUAL = Enum.INT_MANUAL;
+            
+            /**
+             * Enumeration value class for noNamespace.TestLogDocument$TestLog$Testtype.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_AUTOMATED
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_AUTOMATED = 1;
+                static final int INT_MANUAL = 2;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("AUTOMATED", INT_AUTOMATED),
+                      new Enum("MANUAL", INT_MANUAL),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestLogDocument.TestLog.Testtype newValue(java.lang.Object obj) {
+                  return (noNamespace.TestLogDocument.TestLog.Testtype) type.newValue( obj ); }
+                
+                public static noNamespace.TestLogDocument.TestLog.Testtype newInstance() {
+                  return (noNamespace.TestLogDocument.TestLog.Testtype) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestLogDocument.TestLog.Testtype newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestLogDocument.TestLog.Testtype) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestLogDocument.TestLog newInstance() {
+              return (noNamespace.TestLogDocument.TestLog) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestLogDocument.TestLog newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestLogDocument.TestLog) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.TestLogDocument newInstance() {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.TestLogDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.TestLogDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.TestLogDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.TestLogDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.TestLogDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.TestLogDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.TestLogDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.TestLogDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.TestLogDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestLogDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestLogDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestLogDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,782 @@
+/*
+ * XML Type:  test-result-type
+ * Namespace: 
+ * Java type: noNamespace.TestResultType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML test-result-type(@).
+ *
+ * This is a complex type.
+ */
+public interface TestResultType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestResultType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("testresulttype9698type");
+    
+    /**
+     * Gets the "test-case" element
+     */
+    noNamespace.TestResultType.TestCase getTestCase();
+    
+    /**
+     * Sets the "test-case" element
+     */
+    void setTestCase(noNamespace.TestResultType.TestCase testCase);
+    
+    /**
+     * Appends and returns a new empty "test-case" element
+     */
+    noNamespace.TestResultType.TestCase addNewTestCase();
+    
+    /**
+     * Gets array of all "environment" elements
+     */
+    noNamespace.EnvironmentType[] getEnvironmentArray();
+    
+    /**
+     * Gets ith "environment" element
+     */
+    noNamespace.EnvironmentType getEnvironmentArray(int i);
+    
+    /**
+     * Returns number of "environment" element
+     */
+    int sizeOfEnvironmentArray();
+    
+    /**
+     * Sets array of all "environment" element
+     */
+    void setEnvironmentArray(noNamespace.EnvironmentType[] environmentArray);
+    
+    /**
+     * Sets ith "environment" element
+     */
+    void setEnvironmentArray(int i, noNamespace.EnvironmentType environment);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "environment" element
+     */
+    noNamespace.EnvironmentType insertNewEnvironment(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "environment" element
+     */
+    noNamespace.EnvironmentType addNewEnvironment();
+    
+    /**
+     * Removes the ith "environment" element
+     */
+    void removeEnvironment(int i);
+    
+    /**
+     * Gets the "test-parameters" element
+     */
+    java.lang.String getTestParameters();
+    
+    /**
+     * Gets (as xml) the "test-parameters" element
+     */
+    org.apache.xmlbeans.XmlString xgetTestParameters();
+    
+    /**
+     * True if has "test-parameters" element
+     */
+    boolean isSetTestParameters();
+    
+    /**
+     * Sets the "test-parameters" element
+     */
+    void setTestParameters(java.lang.String testParameters);
+    
+    /**
+     * Sets (as xml) the "test-parameters" element
+     */
+    void xsetTestParameters(org.apache.xmlbeans.XmlString testParameters);
+    
+    /**
+     * Unsets the "test-parameters" element
+     */
+    void unsetTestParameters();
+    
+    /**
+     * Gets the "execution-output" element
+     */
+    noNamespace.TestResultType.ExecutionOutput getExecutionOutput();
+    
+    /**
+     * True if has "execution-output" element
+     */
+    boolean isSetExecutionOutput();
+    
+    /**
+     * Sets the "execution-output" element
+     */
+    void setExecutionOutput(noNamespace.TestResultType.ExecutionOutput executionOutput);
+    
+    /**
+     * Appends and returns a new empty "execution-output" element
+     */
+    noNamespace.TestResultType.ExecutionOutput addNewExecutionOutput();
+    
+    /**
+     * Unsets the "execution-output" element
+     */
+    void unsetExecutionOutput();
+    
+    /**
+     * Gets the "exectime" attribute
+     */
+    java.lang.String getExectime();
+    
+    /**
+     * Gets (as xml) the "exectime" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetExectime();
+    
+    /**
+     * Sets the "exectime" attribute
+     */
+    void setExectime(java.lang.String exectime);
+    
+    /**
+     * Sets (as xml) the "exectime" attribute
+     */
+    void xsetExectime(org.apache.xmlbeans.XmlString exectime);
+    
+    /**
+     * Gets the "duration" attribute
+     */
+    java.lang.String getDuration();
+    
+    /**
+     * Gets (as xml) the "duration" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetDuration();
+    
+    /**
+     * True if has "duration" attribute
+     */
+    boolean isSetDuration();
+    
+    /**
+     * Sets the "duration" attribute
+     */
+    void setDuration(java.lang.String duration);
+    
+    /**
+     * Sets (as xml) the "duration" attribute
+     */
+    void xsetDuration(org.apache.xmlbeans.XmlString duration);
+    
+    /**
+     * Unsets the "duration" attribute
+     */
+    void unsetDuration();
+    
+    /**
+     * Gets the "result" attribute
+     */
+    noNamespace.TestResultType.Result.Enum getResult();
+    
+    /**
+     * Gets (as xml) the "result" attribute
+     */
+    noNamespace.TestResultType.Result xgetResult();
+    
+    /**
+     * Sets the "result" attribute
+     */
+    void setResult(noNamespace.TestResultType.Result.Enum result);
+    
+    /**
+     * Sets (as xml) the "result" attribute
+     */
+    void xsetResult(noNamespace.TestResultType.Result result);
+    
+    /**
+     * Gets the "isdone" attribute
+     */
+    noNamespace.TestResultType.Isdone.Enum getIsdone();
+    
+    /**
+     * Gets (as xml) the "isdone" attribute
+     */
+    noNamespace.TestResultType.Isdone xgetIsdone();
+    
+    /**
+     * True if has "isdone" attribute
+     */
+    boolean isSetIsdone();
+    
+    /**
+     * Sets the "isdone" attribute
+     */
+    void setIsdone(noNamespace.TestResultType.Isdone.Enum isdone);
+    
+    /**
+     * Sets (as xml) the "isdone" attribute
+     */
+    void xsetIsdone(noNamespace.TestResultType.Isdone isdone);
+    
+    /**
+     * Unsets the "isdone" attribute
+     */
+    void unsetIsdone();
+    
+    /**
+     * Gets the "logicalname" attribute
+     */
+    java.lang.String getLogicalname();
+    
+    /**
+     * Gets (as xml) the "logicalname" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetLogicalname();
+    
+    /**
+     * True if has "logicalname" attribute
+     */
+    boolean isSetLogicalname();
+    
+    /**
+     * Sets the "logicalname" attribute
+     */
+    void setLogicalname(java.lang.String logicalname);
+    
+    /**
+     * Sets (as xml) the "logicalname" attribute
+     */
+    void xsetLogicalname(org.apache.xmlbeans.XmlString logicalname);
+    
+    /**
+     * Unsets the "logicalname" attribute
+     */
+    void unsetLogicalname();
+    
+    /**
+     * An XML test-case(@).
+     *
+     * This is a complex type.
+     */
+    public interface TestCase extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestCase.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("testcase8131elemtype");
+        
+        /**
+         * Gets the "description" element
+         */
+        java.lang.String getDescription();
+        
+        /**
+         * Gets (as xml) the "description" element
+         */
+        org.apache.xmlbeans.XmlString xgetDescription();
+        
+        /**
+         * True if has "description" element
+         */
+        boolean isSetDescription();
+        
+        /**
+         * Sets the "description" element
+         */
+        void setDescription(java.lang.String description);
+        
+        /**
+         * Sets (as xml) the "description" element
+         */
+        void xsetDescription(org.apache.xmlbeans.XmlString description);
+        
+        /**
+         * Unsets the "description" element
+         */
+        void unsetDescription();
+        
+        /**
+         * Gets the "testcasename" attribute
+         */
+        java.lang.String getTestcasename();
+        
+        /**
+         * Gets (as xml) the "testcasename" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetTestcasename();
+        
+        /**
+         * Sets the "testcasename" attribute
+         */
+        void setTestcasename(java.lang.String testcasename);
+        
+        /**
+         * Sets (as xml) the "testcasename" attribute
+         */
+        void xsetTestcasename(org.apache.xmlbeans.XmlString testcasename);
+        
+        /**
+         * Gets the "testunit" attribute
+         */
+        java.lang.String getTestunit();
+        
+        /**
+         * Gets (as xml) the "testunit" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetTestunit();
+        
+        /**
+         * True if has "testunit" attribute
+         */
+        boolean isSetTestunit();
+        
+        /**
+         * Sets the "testunit" attribute
+         */
+        void setTestunit(java.lang.String testunit);
+        
+        /**
+         * Sets (as xml) the "testunit" attribute
+         */
+        void xsetTestunit(org.apache.xmlbeans.XmlString testunit);
+        
+        /**
+         * Unsets the "testunit" attribute
+         */
+        void unsetTestunit();
+        
+        /**
+         * Gets the "testpath" attribute
+         */
+        java.lang.String getTestpath();
+        
+        /**
+         * Gets (as xml) the "testpath" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetTestpath();
+        
+        /**
+         * True if has "testpath" attribute
+         */
+        boolean isSetTestpath();
+        
+        /**
+         * Sets the "testpath" attribute
+         */
+        void setTestpath(java.lang.String testpath);
+        
+        /**
+         * Sets (as xml) the "testpath" attribute
+         */
+        void xsetTestpath(org.apache.xmlbeans.XmlString testpath);
+        
+        /**
+         * Unsets the "testpath" attribute
+         */
+        void unsetTestpath();
+        
+        /**
+         * Gets the "testowner" attribute
+         */
+        java.lang.String getTestowner();
+        
+        /**
+         * Gets (as xml) the "testowner" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetTestowner();
+        
+        /**
+         * True if has "testowner" attribute
+         */
+        boolean isSetTestowner();
+        
+        /**
+         * Sets the "testowner" attribute
+         */
+        void setTestowner(java.lang.String testowner);
+        
+        /**
+         * Sets (as xml) the "testowner" attribute
+         */
+        void xsetTestowner(org.apache.xmlbeans.XmlString testowner);
+        
+        /**
+         * Unsets the "testowner" attribute
+         */
+        void unsetTestowner();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestResultType.TestCase newInstance() {
+              return (noNamespace.TestResultType.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestResultType.TestCase newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestResultType.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML execution-output(@).
+     *
+     * This is a complex type.
+     */
+    public interface ExecutionOutput extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ExecutionOutput.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("executionoutput2f76elemtype");
+        
+        /**
+         * Gets the "output-details" element
+         */
+        java.lang.String getOutputDetails();
+        
+        /**
+         * Gets (as xml) the "output-details" element
+         */
+        org.apache.xmlbeans.XmlString xgetOutputDetails();
+        
+        /**
+         * True if has "output-details" element
+         */
+        boolean isSetOutputDetails();
+        
+        /**
+         * Sets the "output-details" element
+         */
+        void setOutputDetails(java.lang.String outputDetails);
+        
+        /**
+         * Sets (as xml) the "output-details" element
+         */
+        void xsetOutputDetails(org.apache.xmlbeans.XmlString outputDetails);
+        
+        /**
+         * Unsets the "output-details" element
+         */
+        void unsetOutputDetails();
+        
+        /**
+         * Gets the "errorname" attribute
+         */
+        java.lang.String getErrorname();
+        
+        /**
+         * Gets (as xml) the "errorname" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetErrorname();
+        
+        /**
+         * True if has "errorname" attribute
+         */
+        boolean isSetErrorname();
+        
+        /**
+         * Sets the "errorname" attribute
+         */
+        void setErrorname(java.lang.String errorname);
+        
+        /**
+         * Sets (as xml) the "errorname" attribute
+         */
+        void xsetErrorname(org.apache.xmlbeans.XmlString errorname);
+        
+        /**
+         * Unsets the "errorname" attribute
+         */
+        void unsetErrorname();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestResultType.ExecutionOutput newInstance() {
+              return (noNamespace.TestResultType.ExecutionOutput) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestResultType.ExecutionOutput newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestResultType.ExecutionOutput) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML result(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestResultType$Result.
+     */
+    public interface Result extends org.apache.xmlbeans.XmlNMTOKEN
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Result.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("result803battrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum TIMEOUT = Enum.forString("TIMEOUT");
+        static final Enum ABORT = Enum.forString("ABORT");
+        static final Enum FRAMEABORT = Enum.forString("FRAMEABORT");
+        static final Enum SKIP = Enum.forString("SKIP");
+        static final Enum FAILURE = Enum.forString("FAILURE");
+        static final Enum SUCCESS = Enum.forString("SUCCESS");
+        static final Enum TEST_NOT_FOUND = Enum.forString("TEST_NOT_FOUND");
+        
+        static final int INT_TIMEOUT = Enum.INT_TIMEOUT;
+        static final int INT_ABORT = Enum.INT_ABORT;
+        static final int INT_FRAMEABORT = Enum.INT_FRAMEABORT;
+        static final int INT_SKIP = Enum.INT_SKIP;
+        static final int INT_FAILURE = Enum.INT_FAILURE;
+        static final int INT_SUCCESS = Enum.INT_SUCCESS;
+        static final int INT_TEST_NOT_FOUND = Enum.INT_TEST_NOT_FOUND;
+        
+        /**
+         * Enumeration value class for noNamespace.TestResultType$Result.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_TIMEOUT
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_TIMEOUT = 1;
+            static final int INT_ABORT = 2;
+            static final int INT_FRAMEABORT = 3;
+            static final int INT_SKIP = 4;
+            static final int INT_FAILURE = 5;
+            static final int INT_SUCCESS = 6;
+            static final int INT_TEST_NOT_FOUND = 7;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("TIMEOUT", INT_TIMEOUT),
+                    new Enum("ABORT", INT_ABORT),
+                    new Enum("FRAMEABORT", INT_FRAMEABORT),
+                    new Enum("SKIP", INT_SKIP),
+                    new Enum("FAILURE", INT_FAILURE),
+                    new Enum("SUCCESS", INT_SUCCESS),
+                    new Enum("TEST_NOT_FOUND", INT_TEST_NOT_FOUND),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestResultType.Result newValue(java.lang.Object obj) {
+              return (noNamespace.TestResultType.Result) type.newValue( obj ); }
+            
+            public static noNamespace.TestResultType.Result newInstance() {
+              return (noNamespace.TestResultType.Result) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestResultType.Result newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestResultType.Result) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML isdone(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestResultType$Isdone.
+     */
+    public interface Isdone extends org.apache.xmlbeans.XmlNMTOKEN
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Isdone.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTOOLS").resolveHandle("isdone9c4cattrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum TRUE = Enum.forString("TRUE");
+        static final Enum FALSE = Enum.forString("FALSE");
+        
+        static final int INT_TRUE = Enum.INT_TRUE;
+        static final int INT_FALSE = Enum.INT_FALSE;
+        
+        /**
+         * Enumeration value class for noNamespace.TestResultType$Isdone.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_TRUE
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_TRUE = 1;
+            static final int INT_FALSE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("TRUE", INT_TRUE),
+                    new Enum("FALSE", INT_FALSE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestResultType.Isdone newValue(java.lang.Object obj) {
+              return (noNamespace.TestResultType.Isdone) type.newValue( obj ); }
+            
+            public static noNamespace.TestResultType.Isdone newInstance() {
+              return (noNamespace.TestResultType.Isdone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestResultType.Isdone newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestResultType.Isdone) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.TestResultType newInstance() {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.TestResultType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.TestResultType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.TestResultType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.TestResultType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.TestResultType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.TestResultType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.TestResultType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.TestResultType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.TestResultType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.TestResultType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.TestResultType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.TestResultType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.TestResultType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.TestResultType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.TestResultType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestResultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestResultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestResultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * XML Type:  environmentType
+ * Namespace: 
+ * Java type: noNamespace.EnvironmentType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML environmentType(@).
+ *
+ * This is a complex type.
+ */
+public class EnvironmentTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.EnvironmentType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnvironmentTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ENVATTRIBUTE$0 = 
+        new javax.xml.namespace.QName("", "env-attribute");
+    private static final javax.xml.namespace.QName HOSTTYPE$2 = 
+        new javax.xml.namespace.QName("", "hosttype");
+    private static final javax.xml.namespace.QName PRIMARY$4 = 
+        new javax.xml.namespace.QName("", "primary");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -81686084:
+                if (name.equals(ENVATTRIBUTE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "env-attribute" elements
+     */
+    public noNamespace.EnvironmentType.EnvAttribute[] getEnvAttributeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVATTRIBUTE$0, targetList);
+            noNamespace.EnvironmentType.EnvAttribute[] result = new noNamespace.EnvironmentType.EnvAttribute[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-attribute" element
+     */
+    public noNamespace.EnvironmentType.EnvAttribute getEnvAttributeArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType.EnvAttribute target = null;
+            target = (noNamespace.EnvironmentType.EnvAttribute)get_store().find_element_user(ENVATTRIBUTE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-attribute" element
+     */
+    public int sizeOfEnvAttributeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVATTRIBUTE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-attribute" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvAttributeArray(noNamespace.EnvironmentType.EnvAttribute[] envAttributeArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envAttributeArray, ENVATTRIBUTE$0);
+    }
+    
+    /**
+     * Sets ith "env-attribute" element
+     */
+    public void setEnvAttributeArray(int i, noNamespace.EnvironmentType.EnvAttribute envAttribute)
+    {
+        generatedSetterHelperImpl(envAttribute, ENVATTRIBUTE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-attribute" element
+     */
+    public noNamespace.EnvironmentType.EnvAttribute insertNewEnvAttribute(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType.EnvAttribute target = null;
+            target = (noNamespace.EnvironmentType.EnvAttribute)get_store().insert_element_user(ENVATTRIBUTE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-attribute" element
+     */
+    public noNamespace.EnvironmentType.EnvAttribute addNewEnvAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType.EnvAttribute target = null;
+            target = (noNamespace.EnvironmentType.EnvAttribute)get_store().add_element_user(ENVATTRIBUTE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-attribute" element
+     */
+    public void removeEnvAttribute(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVATTRIBUTE$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "hosttype" attribute
+     */
+    public java.lang.String getHosttype()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HOSTTYPE$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "hosttype" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetHosttype()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HOSTTYPE$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "hosttype" attribute
+     */
+    public boolean isSetHosttype()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(HOSTTYPE$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "hosttype" attribute
+     */
+    public void setHosttype(java.lang.String hosttype)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HOSTTYPE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(HOSTTYPE$2);
+            }
+            target.setStringValue(hosttype);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "hosttype" attribute
+     */
+    public void xsetHosttype(org.apache.xmlbeans.XmlString hosttype)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HOSTTYPE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(HOSTTYPE$2);
+            }
+            target.set(hosttype);
+        }
+    }
+    
+    /**
+     * Unsets the "hosttype" attribute
+     */
+    public void unsetHosttype()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(HOSTTYPE$2);
+        }
+    }
+    
+    /**
+     * Gets the "primary" attribute
+     */
+    public noNamespace.EnvironmentType.Primary.Enum getPrimary()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PRIMARY$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(PRIMARY$4);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.EnvironmentType.Primary.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "primary" attribute
+     */
+    public noNamespace.EnvironmentType.Primary xgetPrimary()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType.Primary target = null;
+            target = (noNamespace.EnvironmentType.Primary)get_store().find_attribute_user(PRIMARY$4);
+            if (target == null)
+            {
+                target = (noNamespace.EnvironmentType.Primary)get_default_attribute_value(PRIMARY$4);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "primary" attribute
+     */
+    public boolean isSetPrimary()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(PRIMARY$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "primary" attribute
+     */
+    public void setPrimary(noNamespace.EnvironmentType.Primary.Enum primary)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PRIMARY$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PRIMARY$4);
+            }
+            target.setEnumValue(primary);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "primary" attribute
+     */
+    public void xsetPrimary(noNamespace.EnvironmentType.Primary primary)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType.Primary target = null;
+            target = (noNamespace.EnvironmentType.Primary)get_store().find_attribute_user(PRIMARY$4);
+            if (target == null)
+            {
+                target = (noNamespace.EnvironmentType.Primary)get_store().add_attribute_user(PRIMARY$4);
+            }
+            target.set(primary);
+        }
+    }
+    
+    /**
+     * Unsets the "primary" attribute
+     */
+    public void unsetPrimary()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(PRIMARY$4);
+        }
+    }
+    /**
+     * An XML env-attribute(@).
+     *
+     * This is a complex type.
+     */
+    public static class EnvAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.EnvironmentType.EnvAttribute
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EnvAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NAME$0 = 
+            new javax.xml.namespace.QName("", "name");
+        private static final javax.xml.namespace.QName VALUE$2 = 
+            new javax.xml.namespace.QName("", "value");
+        
+        
+        /**
+         * Gets the "name" attribute
+         */
+        public java.lang.String getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "name" attribute
+         */
+        public void setName(java.lang.String name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                }
+                target.setStringValue(name);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        public void xsetName(org.apache.xmlbeans.XmlString name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$0);
+                }
+                target.set(name);
+            }
+        }
+        
+        /**
+         * Gets the "value" attribute
+         */
+        public java.lang.String getValue()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VALUE$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "value" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetValue()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(VALUE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "value" attribute
+         */
+        public void setValue(java.lang.String value)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VALUE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VALUE$2);
+                }
+                target.setStringValue(value);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "value" attribute
+         */
+        public void xsetValue(org.apache.xmlbeans.XmlString value)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(VALUE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(VALUE$2);
+                }
+                target.set(value);
+            }
+        }
+    }
+    /**
+     * An XML primary(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.EnvironmentType$Primary.
+     */
+    public static class PrimaryImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.EnvironmentType.Primary
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PrimaryImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected PrimaryImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,1437 @@
+/*
+ * An XML document type.
+ * Localname: test-log
+ * Namespace: 
+ * Java type: noNamespace.TestLogDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one test-log(@) element.
+ *
+ * This is a complex type.
+ */
+public class TestLogDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestLogDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestLogDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTLOG$0 = 
+        new javax.xml.namespace.QName("", "test-log");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1147944055:
+                if (name.equals(TESTLOG$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test-log" element
+     */
+    public noNamespace.TestLogDocument.TestLog getTestLog()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestLogDocument.TestLog target = null;
+            target = (noNamespace.TestLogDocument.TestLog)get_store().find_element_user(TESTLOG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test-log" element
+     */
+    public void setTestLog(noNamespace.TestLogDocument.TestLog testLog)
+    {
+        generatedSetterHelperImpl(testLog, TESTLOG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test-log" element
+     */
+    public noNamespace.TestLogDocument.TestLog addNewTestLog()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestLogDocument.TestLog target = null;
+            target = (noNamespace.TestLogDocument.TestLog)get_store().add_element_user(TESTLOG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML test-log(@).
+     *
+     * This is a complex type.
+     */
+    public static class TestLogImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestLogDocument.TestLog
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestLogImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ENVIRONMENT$0 = 
+            new javax.xml.namespace.QName("", "environment");
+        private static final javax.xml.namespace.QName HEADERINFO$2 = 
+            new javax.xml.namespace.QName("", "header-info");
+        private static final javax.xml.namespace.QName HARNESSINFO$4 = 
+            new javax.xml.namespace.QName("", "harness-info");
+        private static final javax.xml.namespace.QName TESTRESULT$6 = 
+            new javax.xml.namespace.QName("", "test-result");
+        private static final javax.xml.namespace.QName RUNID$8 = 
+            new javax.xml.namespace.QName("", "runid");
+        private static final javax.xml.namespace.QName TESTTYPE$10 = 
+            new javax.xml.namespace.QName("", "testtype");
+        private static final javax.xml.namespace.QName RELEASE$12 = 
+            new javax.xml.namespace.QName("", "release");
+        private static final javax.xml.namespace.QName BRANCH$14 = 
+            new javax.xml.namespace.QName("", "branch");
+        private static final javax.xml.namespace.QName HOSTNAME$16 = 
+            new javax.xml.namespace.QName("", "hostname");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(4);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1894046741:
+                    if (name.equals(HARNESSINFO$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case -1708718664:
+                    if (name.equals(TESTRESULT$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -85904877:
+                    if (name.equals(ENVIRONMENT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 1137652718:
+                    if (name.equals(HEADERINFO$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "environment" element
+         */
+        public noNamespace.EnvironmentType getEnvironment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.EnvironmentType target = null;
+                target = (noNamespace.EnvironmentType)get_store().find_element_user(ENVIRONMENT$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "environment" element
+         */
+        public boolean isSetEnvironment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ENVIRONMENT$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "environment" element
+         */
+        public void setEnvironment(noNamespace.EnvironmentType environment)
+        {
+            generatedSetterHelperImpl(environment, ENVIRONMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "environment" element
+         */
+        public noNamespace.EnvironmentType addNewEnvironment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.EnvironmentType target = null;
+                target = (noNamespace.EnvironmentType)get_store().add_element_user(ENVIRONMENT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "environment" element
+         */
+        public void unsetEnvironment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ENVIRONMENT$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "header-info" element
+         */
+        public noNamespace.TestLogDocument.TestLog.HeaderInfo getHeaderInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.HeaderInfo target = null;
+                target = (noNamespace.TestLogDocument.TestLog.HeaderInfo)get_store().find_element_user(HEADERINFO$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "header-info" element
+         */
+        public void setHeaderInfo(noNamespace.TestLogDocument.TestLog.HeaderInfo headerInfo)
+        {
+            generatedSetterHelperImpl(headerInfo, HEADERINFO$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "header-info" element
+         */
+        public noNamespace.TestLogDocument.TestLog.HeaderInfo addNewHeaderInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.HeaderInfo target = null;
+                target = (noNamespace.TestLogDocument.TestLog.HeaderInfo)get_store().add_element_user(HEADERINFO$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "harness-info" element
+         */
+        public noNamespace.TestLogDocument.TestLog.HarnessInfo getHarnessInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.HarnessInfo target = null;
+                target = (noNamespace.TestLogDocument.TestLog.HarnessInfo)get_store().find_element_user(HARNESSINFO$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "harness-info" element
+         */
+        public boolean isSetHarnessInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(HARNESSINFO$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "harness-info" element
+         */
+        public void setHarnessInfo(noNamespace.TestLogDocument.TestLog.HarnessInfo harnessInfo)
+        {
+            generatedSetterHelperImpl(harnessInfo, HARNESSINFO$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "harness-info" element
+         */
+        public noNamespace.TestLogDocument.TestLog.HarnessInfo addNewHarnessInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.HarnessInfo target = null;
+                target = (noNamespace.TestLogDocument.TestLog.HarnessInfo)get_store().add_element_user(HARNESSINFO$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "harness-info" element
+         */
+        public void unsetHarnessInfo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(HARNESSINFO$4, 0);
+            }
+        }
+        
+        /**
+         * Gets array of all "test-result" elements
+         */
+        public noNamespace.TestResultType[] getTestResultArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TESTRESULT$6, targetList);
+                noNamespace.TestResultType[] result = new noNamespace.TestResultType[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test-result" element
+         */
+        public noNamespace.TestResultType getTestResultArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().find_element_user(TESTRESULT$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test-result" element
+         */
+        public int sizeOfTestResultArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TESTRESULT$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "test-result" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setTestResultArray(noNamespace.TestResultType[] testResultArray)
+        {
+            check_orphaned();
+            arraySetterHelper(testResultArray, TESTRESULT$6);
+        }
+        
+        /**
+         * Sets ith "test-result" element
+         */
+        public void setTestResultArray(int i, noNamespace.TestResultType testResult)
+        {
+            generatedSetterHelperImpl(testResult, TESTRESULT$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test-result" element
+         */
+        public noNamespace.TestResultType insertNewTestResult(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().insert_element_user(TESTRESULT$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test-result" element
+         */
+        public noNamespace.TestResultType addNewTestResult()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().add_element_user(TESTRESULT$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test-result" element
+         */
+        public void removeTestResult(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TESTRESULT$6, i);
+            }
+        }
+        
+        /**
+         * Gets the "runid" attribute
+         */
+        public java.lang.String getRunid()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RUNID$8);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "runid" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetRunid()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RUNID$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "runid" attribute
+         */
+        public void setRunid(java.lang.String runid)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RUNID$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RUNID$8);
+                }
+                target.setStringValue(runid);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "runid" attribute
+         */
+        public void xsetRunid(org.apache.xmlbeans.XmlString runid)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RUNID$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RUNID$8);
+                }
+                target.set(runid);
+            }
+        }
+        
+        /**
+         * Gets the "testtype" attribute
+         */
+        public noNamespace.TestLogDocument.TestLog.Testtype.Enum getTesttype()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTTYPE$10);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.TestLogDocument.TestLog.Testtype.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testtype" attribute
+         */
+        public noNamespace.TestLogDocument.TestLog.Testtype xgetTesttype()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.Testtype target = null;
+                target = (noNamespace.TestLogDocument.TestLog.Testtype)get_store().find_attribute_user(TESTTYPE$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "testtype" attribute
+         */
+        public void setTesttype(noNamespace.TestLogDocument.TestLog.Testtype.Enum testtype)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTTYPE$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTTYPE$10);
+                }
+                target.setEnumValue(testtype);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testtype" attribute
+         */
+        public void xsetTesttype(noNamespace.TestLogDocument.TestLog.Testtype testtype)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestLogDocument.TestLog.Testtype target = null;
+                target = (noNamespace.TestLogDocument.TestLog.Testtype)get_store().find_attribute_user(TESTTYPE$10);
+                if (target == null)
+                {
+                    target = (noNamespace.TestLogDocument.TestLog.Testtype)get_store().add_attribute_user(TESTTYPE$10);
+                }
+                target.set(testtype);
+            }
+        }
+        
+        /**
+         * Gets the "release" attribute
+         */
+        public java.lang.String getRelease()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RELEASE$12);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "release" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetRelease()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RELEASE$12);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "release" attribute
+         */
+        public void setRelease(java.lang.String release)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RELEASE$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RELEASE$12);
+                }
+                target.setStringValue(release);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "release" attribute
+         */
+        public void xsetRelease(org.apache.xmlbeans.XmlString release)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RELEASE$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RELEASE$12);
+                }
+                target.set(release);
+            }
+        }
+        
+        /**
+         * Gets the "branch" attribute
+         */
+        public java.lang.String getBranch()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BRANCH$14);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "branch" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetBranch()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(BRANCH$14);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "branch" attribute
+         */
+        public boolean isSetBranch()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(BRANCH$14) != null;
+            }
+        }
+        
+        /**
+         * Sets the "branch" attribute
+         */
+        public void setBranch(java.lang.String branch)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BRANCH$14);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(BRANCH$14);
+                }
+                target.setStringValue(branch);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "branch" attribute
+         */
+        public void xsetBranch(org.apache.xmlbeans.XmlString branch)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(BRANCH$14);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(BRANCH$14);
+                }
+                target.set(branch);
+            }
+        }
+        
+        /**
+         * Unsets the "branch" attribute
+         */
+        public void unsetBranch()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(BRANCH$14);
+            }
+        }
+        
+        /**
+         * Gets the "hostname" attribute
+         */
+        public java.lang.String getHostname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HOSTNAME$16);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "hostname" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetHostname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HOSTNAME$16);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "hostname" attribute
+         */
+        public boolean isSetHostname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(HOSTNAME$16) != null;
+            }
+        }
+        
+        /**
+         * Sets the "hostname" attribute
+         */
+        public void setHostname(java.lang.String hostname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HOSTNAME$16);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(HOSTNAME$16);
+                }
+                target.setStringValue(hostname);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "hostname" attribute
+         */
+        public void xsetHostname(org.apache.xmlbeans.XmlString hostname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HOSTNAME$16);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(HOSTNAME$16);
+                }
+                target.set(hostname);
+            }
+        }
+        
+        /**
+         * Unsets the "hostname" attribute
+         */
+        public void unsetHostname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(HOSTNAME$16);
+            }
+        }
+        /**
+         * An XML header-info(@).
+         *
+         * This is a complex type.
+         */
+        public static class HeaderInfoImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestLogDocument.TestLog.HeaderInfo
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public HeaderInfoImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName CHECKSUM$0 = 
+                new javax.xml.namespace.QName("", "checksum");
+            private static final javax.xml.namespace.QName RESULTCOUNT$2 = 
+                new javax.xml.namespace.QName("", "resultcount");
+            private static final javax.xml.namespace.QName EXECACCOUNT$4 = 
+                new javax.xml.namespace.QName("", "execaccount");
+            private static final javax.xml.namespace.QName EXECDATE$6 = 
+                new javax.xml.namespace.QName("", "execdate");
+            private static final javax.xml.namespace.QName HARNESSTYPE$8 = 
+                new javax.xml.namespace.QName("", "harnesstype");
+            private static final javax.xml.namespace.QName TESTRUNTYPE$10 = 
+                new javax.xml.namespace.QName("", "testruntype");
+            
+            
+            /**
+             * Gets the "checksum" attribute
+             */
+            public java.lang.String getChecksum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CHECKSUM$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "checksum" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetChecksum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CHECKSUM$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "checksum" attribute
+             */
+            public boolean isSetChecksum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(CHECKSUM$0) != null;
+                }
+            }
+            
+            /**
+             * Sets the "checksum" attribute
+             */
+            public void setChecksum(java.lang.String checksum)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CHECKSUM$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CHECKSUM$0);
+                    }
+                    target.setStringValue(checksum);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "checksum" attribute
+             */
+            public void xsetChecksum(org.apache.xmlbeans.XmlString checksum)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CHECKSUM$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(CHECKSUM$0);
+                    }
+                    target.set(checksum);
+                }
+            }
+            
+            /**
+             * Unsets the "checksum" attribute
+             */
+            public void unsetChecksum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(CHECKSUM$0);
+                }
+            }
+            
+            /**
+             * Gets the "resultcount" attribute
+             */
+            public java.lang.String getResultcount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RESULTCOUNT$2);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "resultcount" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetResultcount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RESULTCOUNT$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "resultcount" attribute
+             */
+            public boolean isSetResultcount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(RESULTCOUNT$2) != null;
+                }
+            }
+            
+            /**
+             * Sets the "resultcount" attribute
+             */
+            public void setResultcount(java.lang.String resultcount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RESULTCOUNT$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RESULTCOUNT$2);
+                    }
+                    target.setStringValue(resultcount);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "resultcount" attribute
+             */
+            public void xsetResultcount(org.apache.xmlbeans.XmlString resultcount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RESULTCOUNT$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RESULTCOUNT$2);
+                    }
+                    target.set(resultcount);
+                }
+            }
+            
+            /**
+             * Unsets the "resultcount" attribute
+             */
+            public void unsetResultcount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(RESULTCOUNT$2);
+                }
+            }
+            
+            /**
+             * Gets the "execaccount" attribute
+             */
+            public java.lang.String getExecaccount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECACCOUNT$4);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "execaccount" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetExecaccount()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECACCOUNT$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "execaccount" attribute
+             */
+            public void setExecaccount(java.lang.String execaccount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECACCOUNT$4);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EXECACCOUNT$4);
+                    }
+                    target.setStringValue(execaccount);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "execaccount" attribute
+             */
+            public void xsetExecaccount(org.apache.xmlbeans.XmlString execaccount)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECACCOUNT$4);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EXECACCOUNT$4);
+                    }
+                    target.set(execaccount);
+                }
+            }
+            
+            /**
+             * Gets the "execdate" attribute
+             */
+            public java.lang.String getExecdate()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECDATE$6);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "execdate" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetExecdate()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECDATE$6);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "execdate" attribute
+             */
+            public void setExecdate(java.lang.String execdate)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECDATE$6);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EXECDATE$6);
+                    }
+                    target.setStringValue(execdate);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "execdate" attribute
+             */
+            public void xsetExecdate(org.apache.xmlbeans.XmlString execdate)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECDATE$6);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EXECDATE$6);
+                    }
+                    target.set(execdate);
+                }
+            }
+            
+            /**
+             * Gets the "harnesstype" attribute
+             */
+            public java.lang.String getHarnesstype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HARNESSTYPE$8);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "harnesstype" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetHarnesstype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HARNESSTYPE$8);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "harnesstype" attribute
+             */
+            public void setHarnesstype(java.lang.String harnesstype)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HARNESSTYPE$8);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(HARNESSTYPE$8);
+                    }
+                    target.setStringValue(harnesstype);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "harnesstype" attribute
+             */
+            public void xsetHarnesstype(org.apache.xmlbeans.XmlString harnesstype)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(HARNESSTYPE$8);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(HARNESSTYPE$8);
+                    }
+                    target.set(harnesstype);
+                }
+            }
+            
+            /**
+             * Gets the "testruntype" attribute
+             */
+            public java.lang.String getTestruntype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTRUNTYPE$10);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "testruntype" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetTestruntype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTRUNTYPE$10);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "testruntype" attribute
+             */
+            public boolean isSetTestruntype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(TESTRUNTYPE$10) != null;
+                }
+            }
+            
+            /**
+             * Sets the "testruntype" attribute
+             */
+            public void setTestruntype(java.lang.String testruntype)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTRUNTYPE$10);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTRUNTYPE$10);
+                    }
+                    target.setStringValue(testruntype);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "testruntype" attribute
+             */
+            public void xsetTestruntype(org.apache.xmlbeans.XmlString testruntype)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTRUNTYPE$10);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTRUNTYPE$10);
+                    }
+                    target.set(testruntype);
+                }
+            }
+            
+            /**
+             * Unsets the "testruntype" attribute
+             */
+            public void unsetTestruntype()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(TESTRUNTYPE$10);
+                }
+            }
+        }
+        /**
+         * An XML harness-info(@).
+         *
+         * This is a complex type.
+         */
+        public static class HarnessInfoImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestLogDocument.TestLog.HarnessInfo
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public HarnessInfoImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName PROCESSCONFIG$0 = 
+                new javax.xml.namespace.QName("", "processconfig");
+            
+            
+            /**
+             * Gets the "processconfig" attribute
+             */
+            public java.lang.String getProcessconfig()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PROCESSCONFIG$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "processconfig" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetProcessconfig()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(PROCESSCONFIG$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "processconfig" attribute
+             */
+            public boolean isSetProcessconfig()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(PROCESSCONFIG$0) != null;
+                }
+            }
+            
+            /**
+             * Sets the "processconfig" attribute
+             */
+            public void setProcessconfig(java.lang.String processconfig)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PROCESSCONFIG$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PROCESSCONFIG$0);
+                    }
+                    target.setStringValue(processconfig);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "processconfig" attribute
+             */
+            public void xsetProcessconfig(org.apache.xmlbeans.XmlString processconfig)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(PROCESSCONFIG$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(PROCESSCONFIG$0);
+                    }
+                    target.set(processconfig);
+                }
+            }
+            
+            /**
+             * Unsets the "processconfig" attribute
+             */
+            public void unsetProcessconfig()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(PROCESSCONFIG$0);
+                }
+            }
+        }
+        /**
+         * An XML testtype(@).
+         *
+         * This is an atomic type that is a restriction of noNamespace.TestLogDocument$TestLog$Testtype.
+         */
+        public static class TesttypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.TestLogDocument.TestLog.Testtype
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public TesttypeImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected TesttypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
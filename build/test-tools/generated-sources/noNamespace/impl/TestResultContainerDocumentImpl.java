@@ -0,0 +1,216 @@
+/*
+ * An XML document type.
+ * Localname: test-result-container
+ * Namespace: 
+ * Java type: noNamespace.TestResultContainerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one test-result-container(@) element.
+ *
+ * This is a complex type.
+ */
+public class TestResultContainerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestResultContainerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestResultContainerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTRESULTCONTAINER$0 = 
+        new javax.xml.namespace.QName("", "test-result-container");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1448120660:
+                if (name.equals(TESTRESULTCONTAINER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test-result-container" element
+     */
+    public noNamespace.TestResultContainerDocument.TestResultContainer getTestResultContainer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultContainerDocument.TestResultContainer target = null;
+            target = (noNamespace.TestResultContainerDocument.TestResultContainer)get_store().find_element_user(TESTRESULTCONTAINER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test-result-container" element
+     */
+    public void setTestResultContainer(noNamespace.TestResultContainerDocument.TestResultContainer testResultContainer)
+    {
+        generatedSetterHelperImpl(testResultContainer, TESTRESULTCONTAINER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test-result-container" element
+     */
+    public noNamespace.TestResultContainerDocument.TestResultContainer addNewTestResultContainer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultContainerDocument.TestResultContainer target = null;
+            target = (noNamespace.TestResultContainerDocument.TestResultContainer)get_store().add_element_user(TESTRESULTCONTAINER$0);
+            return target;
+        }
+    }
+    /**
+     * An XML test-result-container(@).
+     *
+     * This is a complex type.
+     */
+    public static class TestResultContainerImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestResultContainerDocument.TestResultContainer
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestResultContainerImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName TESTRESULT$0 = 
+            new javax.xml.namespace.QName("", "test-result");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1708718664:
+                    if (name.equals(TESTRESULT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "test-result" elements
+         */
+        public noNamespace.TestResultType[] getTestResultArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TESTRESULT$0, targetList);
+                noNamespace.TestResultType[] result = new noNamespace.TestResultType[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test-result" element
+         */
+        public noNamespace.TestResultType getTestResultArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().find_element_user(TESTRESULT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test-result" element
+         */
+        public int sizeOfTestResultArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TESTRESULT$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "test-result" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setTestResultArray(noNamespace.TestResultType[] testResultArray)
+        {
+            check_orphaned();
+            arraySetterHelper(testResultArray, TESTRESULT$0);
+        }
+        
+        /**
+         * Sets ith "test-result" element
+         */
+        public void setTestResultArray(int i, noNamespace.TestResultType testResult)
+        {
+            generatedSetterHelperImpl(testResult, TESTRESULT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test-result" element
+         */
+        public noNamespace.TestResultType insertNewTestResult(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().insert_element_user(TESTRESULT$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test-result" element
+         */
+        public noNamespace.TestResultType addNewTestResult()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestResultType target = null;
+                target = (noNamespace.TestResultType)get_store().add_element_user(TESTRESULT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test-result" element
+         */
+        public void removeTestResult(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TESTRESULT$0, i);
+            }
+        }
+    }
+}
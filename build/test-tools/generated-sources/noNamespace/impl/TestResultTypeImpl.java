@@ -0,0 +1,1519 @@
+/*
+ * XML Type:  test-result-type
+ * Namespace: 
+ * Java type: noNamespace.TestResultType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML test-result-type(@).
+ *
+ * This is a complex type.
+ */
+public class TestResultTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestResultType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestResultTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTCASE$0 = 
+        new javax.xml.namespace.QName("", "test-case");
+    private static final javax.xml.namespace.QName ENVIRONMENT$2 = 
+        new javax.xml.namespace.QName("", "environment");
+    private static final javax.xml.namespace.QName TESTPARAMETERS$4 = 
+        new javax.xml.namespace.QName("", "test-parameters");
+    private static final javax.xml.namespace.QName EXECUTIONOUTPUT$6 = 
+        new javax.xml.namespace.QName("", "execution-output");
+    private static final javax.xml.namespace.QName EXECTIME$8 = 
+        new javax.xml.namespace.QName("", "exectime");
+    private static final javax.xml.namespace.QName DURATION$10 = 
+        new javax.xml.namespace.QName("", "duration");
+    private static final javax.xml.namespace.QName RESULT$12 = 
+        new javax.xml.namespace.QName("", "result");
+    private static final javax.xml.namespace.QName ISDONE$14 = 
+        new javax.xml.namespace.QName("", "isdone");
+    private static final javax.xml.namespace.QName LOGICALNAME$16 = 
+        new javax.xml.namespace.QName("", "logicalname");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1585820330:
+                if (name.equals(EXECUTIONOUTPUT$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1226808437:
+                if (name.equals(TESTCASE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1127040507:
+                if (name.equals(TESTPARAMETERS$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -85904877:
+                if (name.equals(ENVIRONMENT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test-case" element
+     */
+    public noNamespace.TestResultType.TestCase getTestCase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.TestCase target = null;
+            target = (noNamespace.TestResultType.TestCase)get_store().find_element_user(TESTCASE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test-case" element
+     */
+    public void setTestCase(noNamespace.TestResultType.TestCase testCase)
+    {
+        generatedSetterHelperImpl(testCase, TESTCASE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test-case" element
+     */
+    public noNamespace.TestResultType.TestCase addNewTestCase()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.TestCase target = null;
+            target = (noNamespace.TestResultType.TestCase)get_store().add_element_user(TESTCASE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "environment" elements
+     */
+    public noNamespace.EnvironmentType[] getEnvironmentArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVIRONMENT$2, targetList);
+            noNamespace.EnvironmentType[] result = new noNamespace.EnvironmentType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "environment" element
+     */
+    public noNamespace.EnvironmentType getEnvironmentArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType target = null;
+            target = (noNamespace.EnvironmentType)get_store().find_element_user(ENVIRONMENT$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "environment" element
+     */
+    public int sizeOfEnvironmentArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVIRONMENT$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "environment" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvironmentArray(noNamespace.EnvironmentType[] environmentArray)
+    {
+        check_orphaned();
+        arraySetterHelper(environmentArray, ENVIRONMENT$2);
+    }
+    
+    /**
+     * Sets ith "environment" element
+     */
+    public void setEnvironmentArray(int i, noNamespace.EnvironmentType environment)
+    {
+        generatedSetterHelperImpl(environment, ENVIRONMENT$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "environment" element
+     */
+    public noNamespace.EnvironmentType insertNewEnvironment(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType target = null;
+            target = (noNamespace.EnvironmentType)get_store().insert_element_user(ENVIRONMENT$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "environment" element
+     */
+    public noNamespace.EnvironmentType addNewEnvironment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.EnvironmentType target = null;
+            target = (noNamespace.EnvironmentType)get_store().add_element_user(ENVIRONMENT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "environment" element
+     */
+    public void removeEnvironment(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVIRONMENT$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "test-parameters" element
+     */
+    public java.lang.String getTestParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTPARAMETERS$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "test-parameters" element
+     */
+    public org.apache.xmlbeans.XmlString xgetTestParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TESTPARAMETERS$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "test-parameters" element
+     */
+    public boolean isSetTestParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TESTPARAMETERS$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "test-parameters" element
+     */
+    public void setTestParameters(java.lang.String testParameters)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TESTPARAMETERS$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TESTPARAMETERS$4);
+            }
+            target.setStringValue(testParameters);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "test-parameters" element
+     */
+    public void xsetTestParameters(org.apache.xmlbeans.XmlString testParameters)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TESTPARAMETERS$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(TESTPARAMETERS$4);
+            }
+            target.set(testParameters);
+        }
+    }
+    
+    /**
+     * Unsets the "test-parameters" element
+     */
+    public void unsetTestParameters()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TESTPARAMETERS$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "execution-output" element
+     */
+    public noNamespace.TestResultType.ExecutionOutput getExecutionOutput()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.ExecutionOutput target = null;
+            target = (noNamespace.TestResultType.ExecutionOutput)get_store().find_element_user(EXECUTIONOUTPUT$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "execution-output" element
+     */
+    public boolean isSetExecutionOutput()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXECUTIONOUTPUT$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "execution-output" element
+     */
+    public void setExecutionOutput(noNamespace.TestResultType.ExecutionOutput executionOutput)
+    {
+        generatedSetterHelperImpl(executionOutput, EXECUTIONOUTPUT$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "execution-output" element
+     */
+    public noNamespace.TestResultType.ExecutionOutput addNewExecutionOutput()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.ExecutionOutput target = null;
+            target = (noNamespace.TestResultType.ExecutionOutput)get_store().add_element_user(EXECUTIONOUTPUT$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "execution-output" element
+     */
+    public void unsetExecutionOutput()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXECUTIONOUTPUT$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "exectime" attribute
+     */
+    public java.lang.String getExectime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECTIME$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "exectime" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetExectime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECTIME$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "exectime" attribute
+     */
+    public void setExectime(java.lang.String exectime)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EXECTIME$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EXECTIME$8);
+            }
+            target.setStringValue(exectime);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "exectime" attribute
+     */
+    public void xsetExectime(org.apache.xmlbeans.XmlString exectime)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EXECTIME$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EXECTIME$8);
+            }
+            target.set(exectime);
+        }
+    }
+    
+    /**
+     * Gets the "duration" attribute
+     */
+    public java.lang.String getDuration()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DURATION$10);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "duration" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetDuration()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DURATION$10);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "duration" attribute
+     */
+    public boolean isSetDuration()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(DURATION$10) != null;
+        }
+    }
+    
+    /**
+     * Sets the "duration" attribute
+     */
+    public void setDuration(java.lang.String duration)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DURATION$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DURATION$10);
+            }
+            target.setStringValue(duration);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "duration" attribute
+     */
+    public void xsetDuration(org.apache.xmlbeans.XmlString duration)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DURATION$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(DURATION$10);
+            }
+            target.set(duration);
+        }
+    }
+    
+    /**
+     * Unsets the "duration" attribute
+     */
+    public void unsetDuration()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(DURATION$10);
+        }
+    }
+    
+    /**
+     * Gets the "result" attribute
+     */
+    public noNamespace.TestResultType.Result.Enum getResult()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RESULT$12);
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.TestResultType.Result.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "result" attribute
+     */
+    public noNamespace.TestResultType.Result xgetResult()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.Result target = null;
+            target = (noNamespace.TestResultType.Result)get_store().find_attribute_user(RESULT$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "result" attribute
+     */
+    public void setResult(noNamespace.TestResultType.Result.Enum result)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RESULT$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RESULT$12);
+            }
+            target.setEnumValue(result);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "result" attribute
+     */
+    public void xsetResult(noNamespace.TestResultType.Result result)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.Result target = null;
+            target = (noNamespace.TestResultType.Result)get_store().find_attribute_user(RESULT$12);
+            if (target == null)
+            {
+                target = (noNamespace.TestResultType.Result)get_store().add_attribute_user(RESULT$12);
+            }
+            target.set(result);
+        }
+    }
+    
+    /**
+     * Gets the "isdone" attribute
+     */
+    public noNamespace.TestResultType.Isdone.Enum getIsdone()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ISDONE$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ISDONE$14);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.TestResultType.Isdone.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "isdone" attribute
+     */
+    public noNamespace.TestResultType.Isdone xgetIsdone()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.Isdone target = null;
+            target = (noNamespace.TestResultType.Isdone)get_store().find_attribute_user(ISDONE$14);
+            if (target == null)
+            {
+                target = (noNamespace.TestResultType.Isdone)get_default_attribute_value(ISDONE$14);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "isdone" attribute
+     */
+    public boolean isSetIsdone()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ISDONE$14) != null;
+        }
+    }
+    
+    /**
+     * Sets the "isdone" attribute
+     */
+    public void setIsdone(noNamespace.TestResultType.Isdone.Enum isdone)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ISDONE$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ISDONE$14);
+            }
+            target.setEnumValue(isdone);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "isdone" attribute
+     */
+    public void xsetIsdone(noNamespace.TestResultType.Isdone isdone)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestResultType.Isdone target = null;
+            target = (noNamespace.TestResultType.Isdone)get_store().find_attribute_user(ISDONE$14);
+            if (target == null)
+            {
+                target = (noNamespace.TestResultType.Isdone)get_store().add_attribute_user(ISDONE$14);
+            }
+            target.set(isdone);
+        }
+    }
+    
+    /**
+     * Unsets the "isdone" attribute
+     */
+    public void unsetIsdone()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ISDONE$14);
+        }
+    }
+    
+    /**
+     * Gets the "logicalname" attribute
+     */
+    public java.lang.String getLogicalname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOGICALNAME$16);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "logicalname" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetLogicalname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(LOGICALNAME$16);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "logicalname" attribute
+     */
+    public boolean isSetLogicalname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LOGICALNAME$16) != null;
+        }
+    }
+    
+    /**
+     * Sets the "logicalname" attribute
+     */
+    public void setLogicalname(java.lang.String logicalname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LOGICALNAME$16);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LOGICALNAME$16);
+            }
+            target.setStringValue(logicalname);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "logicalname" attribute
+     */
+    public void xsetLogicalname(org.apache.xmlbeans.XmlString logicalname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(LOGICALNAME$16);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(LOGICALNAME$16);
+            }
+            target.set(logicalname);
+        }
+    }
+    
+    /**
+     * Unsets the "logicalname" attribute
+     */
+    public void unsetLogicalname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LOGICALNAME$16);
+        }
+    }
+    /**
+     * An XML test-case(@).
+     *
+     * This is a complex type.
+     */
+    public static class TestCaseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestResultType.TestCase
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestCaseImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+            new javax.xml.namespace.QName("", "description");
+        private static final javax.xml.namespace.QName TESTCASENAME$2 = 
+            new javax.xml.namespace.QName("", "testcasename");
+        private static final javax.xml.namespace.QName TESTUNIT$4 = 
+            new javax.xml.namespace.QName("", "testunit");
+        private static final javax.xml.namespace.QName TESTPATH$6 = 
+            new javax.xml.namespace.QName("", "testpath");
+        private static final javax.xml.namespace.QName TESTOWNER$8 = 
+            new javax.xml.namespace.QName("", "testowner");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1724546052:
+                    if (name.equals(DESCRIPTION$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "description" element
+         */
+        public java.lang.String getDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "description" element
+         */
+        public org.apache.xmlbeans.XmlString xgetDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "description" element
+         */
+        public boolean isSetDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DESCRIPTION$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "description" element
+         */
+        public void setDescription(java.lang.String description)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTION$0);
+                }
+                target.setStringValue(description);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "description" element
+         */
+        public void xsetDescription(org.apache.xmlbeans.XmlString description)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DESCRIPTION$0);
+                }
+                target.set(description);
+            }
+        }
+        
+        /**
+         * Unsets the "description" element
+         */
+        public void unsetDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DESCRIPTION$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "testcasename" attribute
+         */
+        public java.lang.String getTestcasename()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTCASENAME$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testcasename" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetTestcasename()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTCASENAME$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "testcasename" attribute
+         */
+        public void setTestcasename(java.lang.String testcasename)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTCASENAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTCASENAME$2);
+                }
+                target.setStringValue(testcasename);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testcasename" attribute
+         */
+        public void xsetTestcasename(org.apache.xmlbeans.XmlString testcasename)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTCASENAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTCASENAME$2);
+                }
+                target.set(testcasename);
+            }
+        }
+        
+        /**
+         * Gets the "testunit" attribute
+         */
+        public java.lang.String getTestunit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTUNIT$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testunit" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetTestunit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTUNIT$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "testunit" attribute
+         */
+        public boolean isSetTestunit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TESTUNIT$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "testunit" attribute
+         */
+        public void setTestunit(java.lang.String testunit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTUNIT$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTUNIT$4);
+                }
+                target.setStringValue(testunit);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testunit" attribute
+         */
+        public void xsetTestunit(org.apache.xmlbeans.XmlString testunit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTUNIT$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTUNIT$4);
+                }
+                target.set(testunit);
+            }
+        }
+        
+        /**
+         * Unsets the "testunit" attribute
+         */
+        public void unsetTestunit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TESTUNIT$4);
+            }
+        }
+        
+        /**
+         * Gets the "testpath" attribute
+         */
+        public java.lang.String getTestpath()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTPATH$6);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testpath" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetTestpath()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTPATH$6);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "testpath" attribute
+         */
+        public boolean isSetTestpath()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TESTPATH$6) != null;
+            }
+        }
+        
+        /**
+         * Sets the "testpath" attribute
+         */
+        public void setTestpath(java.lang.String testpath)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTPATH$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTPATH$6);
+                }
+                target.setStringValue(testpath);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testpath" attribute
+         */
+        public void xsetTestpath(org.apache.xmlbeans.XmlString testpath)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTPATH$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTPATH$6);
+                }
+                target.set(testpath);
+            }
+        }
+        
+        /**
+         * Unsets the "testpath" attribute
+         */
+        public void unsetTestpath()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TESTPATH$6);
+            }
+        }
+        
+        /**
+         * Gets the "testowner" attribute
+         */
+        public java.lang.String getTestowner()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTOWNER$8);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "testowner" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetTestowner()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTOWNER$8);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "testowner" attribute
+         */
+        public boolean isSetTestowner()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TESTOWNER$8) != null;
+            }
+        }
+        
+        /**
+         * Sets the "testowner" attribute
+         */
+        public void setTestowner(java.lang.String testowner)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TESTOWNER$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TESTOWNER$8);
+                }
+                target.setStringValue(testowner);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "testowner" attribute
+         */
+        public void xsetTestowner(org.apache.xmlbeans.XmlString testowner)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TESTOWNER$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TESTOWNER$8);
+                }
+                target.set(testowner);
+            }
+        }
+        
+        /**
+         * Unsets the "testowner" attribute
+         */
+        public void unsetTestowner()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TESTOWNER$8);
+            }
+        }
+    }
+    /**
+     * An XML execution-output(@).
+     *
+     * This is a complex type.
+     */
+    public static class ExecutionOutputImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestResultType.ExecutionOutput
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ExecutionOutputImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName OUTPUTDETAILS$0 = 
+            new javax.xml.namespace.QName("", "output-details");
+        private static final javax.xml.namespace.QName ERRORNAME$2 = 
+            new javax.xml.namespace.QName("", "errorname");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 94002550:
+                    if (name.equals(OUTPUTDETAILS$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "output-details" element
+         */
+        public java.lang.String getOutputDetails()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OUTPUTDETAILS$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "output-details" element
+         */
+        public org.apache.xmlbeans.XmlString xgetOutputDetails()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(OUTPUTDETAILS$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "output-details" element
+         */
+        public boolean isSetOutputDetails()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(OUTPUTDETAILS$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "output-details" element
+         */
+        public void setOutputDetails(java.lang.String outputDetails)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OUTPUTDETAILS$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OUTPUTDETAILS$0);
+                }
+                target.setStringValue(outputDetails);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "output-details" element
+         */
+        public void xsetOutputDetails(org.apache.xmlbeans.XmlString outputDetails)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(OUTPUTDETAILS$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(OUTPUTDETAILS$0);
+                }
+                target.set(outputDetails);
+            }
+        }
+        
+        /**
+         * Unsets the "output-details" element
+         */
+        public void unsetOutputDetails()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(OUTPUTDETAILS$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "errorname" attribute
+         */
+        public java.lang.String getErrorname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ERRORNAME$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "errorname" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetErrorname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ERRORNAME$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "errorname" attribute
+         */
+        public boolean isSetErrorname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ERRORNAME$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "errorname" attribute
+         */
+        public void setErrorname(java.lang.String errorname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ERRORNAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ERRORNAME$2);
+                }
+                target.setStringValue(errorname);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "errorname" attribute
+         */
+        public void xsetErrorname(org.apache.xmlbeans.XmlString errorname)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ERRORNAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ERRORNAME$2);
+                }
+                target.set(errorname);
+            }
+        }
+        
+        /**
+         * Unsets the "errorname" attribute
+         */
+        public void unsetErrorname()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ERRORNAME$2);
+            }
+        }
+    }
+    /**
+     * An XML result(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestResultType$Result.
+     */
+    public static class ResultImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.TestResultType.Result
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ResultImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected ResultImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML isdone(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestResultType$Isdone.
+     */
+    public static class IsdoneImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.TestResultType.Isdone
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public IsdoneImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected IsdoneImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: AAR_CarGradeCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.AARCarGradeCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one AAR_CarGradeCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface AARCarGradeCodeDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AARCarGradeCodeDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("aarcargradecode4e0ddoctype");
+    
+    /**
+     * Gets the "AAR_CarGradeCode" element
+     */
+    java.lang.String getAARCarGradeCode();
+    
+    /**
+     * Gets (as xml) the "AAR_CarGradeCode" element
+     */
+    org.apache.xmlbeans.XmlString xgetAARCarGradeCode();
+    
+    /**
+     * Sets the "AAR_CarGradeCode" element
+     */
+    void setAARCarGradeCode(java.lang.String aarCarGradeCode);
+    
+    /**
+     * Sets (as xml) the "AAR_CarGradeCode" element
+     */
+    void xsetAARCarGradeCode(org.apache.xmlbeans.XmlString aarCarGradeCode);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument newInstance() {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.AARCarGradeCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.AARCarGradeCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
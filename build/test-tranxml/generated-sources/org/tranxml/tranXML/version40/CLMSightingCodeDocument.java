@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: CLM_SightingCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMSightingCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one CLM_SightingCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface CLMSightingCodeDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CLMSightingCodeDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("clmsightingcodea63ddoctype");
+    
+    /**
+     * Gets the "CLM_SightingCode" element
+     */
+    org.tranxml.tranXML.version40.CLMSightingCodeList.Enum getCLMSightingCode();
+    
+    /**
+     * Gets (as xml) the "CLM_SightingCode" element
+     */
+    org.tranxml.tranXML.version40.CLMSightingCodeList xgetCLMSightingCode();
+    
+    /**
+     * Sets the "CLM_SightingCode" element
+     */
+    void setCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList.Enum clmSightingCode);
+    
+    /**
+     * Sets (as xml) the "CLM_SightingCode" element
+     */
+    void xsetCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList clmSightingCode);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument newInstance() {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
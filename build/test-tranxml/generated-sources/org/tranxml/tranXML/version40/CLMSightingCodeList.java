@@ -0,0 +1,227 @@
+/*
+ * XML Type:  CLM_SightingCodeList
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMSightingCodeList
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CLM_SightingCodeList(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CLMSightingCodeList.
+ */
+public interface CLMSightingCodeList extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CLMSightingCodeList.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("clmsightingcodelist386btype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum A = Enum.forString("A");
+    static final Enum B = Enum.forString("B");
+    static final Enum C = Enum.forString("C");
+    static final Enum D = Enum.forString("D");
+    static final Enum E = Enum.forString("E");
+    static final Enum G = Enum.forString("G");
+    static final Enum H = Enum.forString("H");
+    static final Enum J = Enum.forString("J");
+    static final Enum K = Enum.forString("K");
+    static final Enum M = Enum.forString("M");
+    static final Enum N = Enum.forString("N");
+    static final Enum P = Enum.forString("P");
+    static final Enum R = Enum.forString("R");
+    static final Enum S = Enum.forString("S");
+    static final Enum U = Enum.forString("U");
+    static final Enum V = Enum.forString("V");
+    static final Enum W = Enum.forString("W");
+    static final Enum Y = Enum.forString("Y");
+    static final Enum Z = Enum.forString("Z");
+    static final Enum X_3 = Enum.forString("3");
+    
+    static final int INT_A = Enum.INT_A;
+    static final int INT_B = Enum.INT_B;
+    static final int INT_C = Enum.INT_C;
+    static final int INT_D = Enum.INT_D;
+    static final int INT_E = Enum.INT_E;
+    static final int INT_G = Enum.INT_G;
+    static final int INT_H = Enum.INT_H;
+    static final int INT_J = Enum.INT_J;
+    static final int INT_K = Enum.INT_K;
+    static final int INT_M = Enum.INT_M;
+    static final int INT_N = Enum.INT_N;
+    static final int INT_P = Enum.INT_P;
+    static final int INT_R = Enum.INT_R;
+    static final int INT_S = Enum.INT_S;
+    static final int INT_U = Enum.INT_U;
+    static final int INT_V = Enum.INT_V;
+    static final int INT_W = Enum.INT_W;
+    static final int INT_Y = Enum.INT_Y;
+    static final int INT_Z = Enum.INT_Z;
+    static final int INT_X_3 = Enum.INT_X_3;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CLMSightingCodeList.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_A
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_A = 1;
+        static final int INT_B = 2;
+        static final int INT_C = 3;
+        static final int INT_D = 4;
+        static final int INT_E = 5;
+        static final int INT_G = 6;
+        static final int INT_H = 7;
+        static final int INT_J = 8;
+        static final int INT_K = 9;
+        static final int INT_M = 10;
+        static final int INT_N = 11;
+        static final int INT_P = 12;
+        static final int INT_R = 13;
+        static final int INT_S = 14;
+        static final int INT_U = 15;
+        static final int INT_V = 16;
+        static final int INT_W = 17;
+        static final int INT_Y = 18;
+        static final int INT_Z = 19;
+        static final int INT_X_3 = 20;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("A", INT_A),
+                new Enum("B", INT_B),
+                new Enum("C", INT_C),
+                new Enum("D", INT_D),
+                new Enum("E", INT_E),
+                new Enum("G", INT_G),
+                new Enum("H", INT_H),
+                new Enum("J", INT_J),
+                new Enum("K", INT_K),
+                new Enum("M", INT_M),
+                new Enum("N", INT_N),
+                new Enum("P", INT_P),
+                new Enum("R", INT_R),
+                new Enum("S", INT_S),
+                new Enum("U", INT_U),
+                new Enum("V", INT_V),
+                new Enum("W", INT_W),
+                new Enum("Y", INT_Y),
+                new Enum("Z", INT_Z),
+                new Enum("3", INT_X_3),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList newInstance() {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMSightingCodeList parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMSightingCodeList) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * An XML document type.
+ * Localname: CLM_WeightEvent
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMWeightEventDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one CLM_WeightEvent(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface CLMWeightEventDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CLMWeightEventDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("clmweightevent5025doctype");
+    
+    /**
+     * Gets the "CLM_WeightEvent" element
+     */
+    org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent getCLMWeightEvent();
+    
+    /**
+     * Sets the "CLM_WeightEvent" element
+     */
+    void setCLMWeightEvent(org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent clmWeightEvent);
+    
+    /**
+     * Appends and returns a new empty "CLM_WeightEvent" element
+     */
+    org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent addNewCLMWeightEvent();
+    
+    /**
+     * An XML CLM_WeightEvent(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface CLMWeightEvent extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CLMWeightEvent.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("clmweighteventde38elemtype");
+        
+        /**
+         * Gets the "EquipmentStructure" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure();
+        
+        /**
+         * Sets the "EquipmentStructure" element
+         */
+        void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure);
+        
+        /**
+         * Appends and returns a new empty "EquipmentStructure" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure();
+        
+        /**
+         * Gets the "Date" element
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        org.apache.xmlbeans.XmlDate xgetDate();
+        
+        /**
+         * Sets the "Date" element
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation();
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation);
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation();
+        
+        /**
+         * Gets array of all "Weight" elements
+         */
+        org.tranxml.tranXML.version40.WeightDocument.Weight[] getWeightArray();
+        
+        /**
+         * Gets ith "Weight" element
+         */
+        org.tranxml.tranXML.version40.WeightDocument.Weight getWeightArray(int i);
+        
+        /**
+         * Returns number of "Weight" element
+         */
+        int sizeOfWeightArray();
+        
+        /**
+         * Sets array of all "Weight" element
+         */
+        void setWeightArray(org.tranxml.tranXML.version40.WeightDocument.Weight[] weightArray);
+        
+        /**
+         * Sets ith "Weight" element
+         */
+        void setWeightArray(int i, org.tranxml.tranXML.version40.WeightDocument.Weight weight);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "Weight" element
+         */
+        org.tranxml.tranXML.version40.WeightDocument.Weight insertNewWeight(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "Weight" element
+         */
+        org.tranxml.tranXML.version40.WeightDocument.Weight addNewWeight();
+        
+        /**
+         * Removes the ith "Weight" element
+         */
+        void removeWeight(int i);
+        
+        /**
+         * Gets the "WaybillDate" element
+         */
+        java.util.Calendar getWaybillDate();
+        
+        /**
+         * Gets (as xml) the "WaybillDate" element
+         */
+        org.apache.xmlbeans.XmlDate xgetWaybillDate();
+        
+        /**
+         * True if has "WaybillDate" element
+         */
+        boolean isSetWaybillDate();
+        
+        /**
+         * Sets the "WaybillDate" element
+         */
+        void setWaybillDate(java.util.Calendar waybillDate);
+        
+        /**
+         * Sets (as xml) the "WaybillDate" element
+         */
+        void xsetWaybillDate(org.apache.xmlbeans.XmlDate waybillDate);
+        
+        /**
+         * Unsets the "WaybillDate" element
+         */
+        void unsetWaybillDate();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent newInstance() {
+              return (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument newInstance() {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CLMWeightEventDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CLMWeightEventDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
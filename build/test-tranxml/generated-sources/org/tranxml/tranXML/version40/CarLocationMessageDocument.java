@@ -0,0 +1,334 @@
+/*
+ * An XML document type.
+ * Localname: CarLocationMessage
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CarLocationMessageDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one CarLocationMessage(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface CarLocationMessageDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CarLocationMessageDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("carlocationmessage36cedoctype");
+    
+    /**
+     * Gets the "CarLocationMessage" element
+     */
+    org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage getCarLocationMessage();
+    
+    /**
+     * Sets the "CarLocationMessage" element
+     */
+    void setCarLocationMessage(org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage carLocationMessage);
+    
+    /**
+     * Appends and returns a new empty "CarLocationMessage" element
+     */
+    org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage addNewCarLocationMessage();
+    
+    /**
+     * An XML CarLocationMessage(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface CarLocationMessage extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CarLocationMessage.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("carlocationmessage0cb4elemtype");
+        
+        /**
+         * Gets the "FleetID" element
+         */
+        java.lang.String getFleetID();
+        
+        /**
+         * Gets (as xml) the "FleetID" element
+         */
+        org.apache.xmlbeans.XmlString xgetFleetID();
+        
+        /**
+         * Sets the "FleetID" element
+         */
+        void setFleetID(java.lang.String fleetID);
+        
+        /**
+         * Sets (as xml) the "FleetID" element
+         */
+        void xsetFleetID(org.apache.xmlbeans.XmlString fleetID);
+        
+        /**
+         * Gets the "StandardCarrierAlphaCode" element
+         */
+        java.lang.String getStandardCarrierAlphaCode();
+        
+        /**
+         * Gets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetStandardCarrierAlphaCode();
+        
+        /**
+         * Sets the "StandardCarrierAlphaCode" element
+         */
+        void setStandardCarrierAlphaCode(java.lang.String standardCarrierAlphaCode);
+        
+        /**
+         * Sets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        void xsetStandardCarrierAlphaCode(org.apache.xmlbeans.XmlString standardCarrierAlphaCode);
+        
+        /**
+         * Gets array of all "EventStatus" elements
+         */
+        org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[] getEventStatusArray();
+        
+        /**
+         * Gets ith "EventStatus" element
+         */
+        org.tranxml.tranXML.version40.EventStatusDocument.EventStatus getEventStatusArray(int i);
+        
+        /**
+         * Returns number of "EventStatus" element
+         */
+        int sizeOfEventStatusArray();
+        
+        /**
+         * Sets array of all "EventStatus" element
+         */
+        void setEventStatusArray(org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[] eventStatusArray);
+        
+        /**
+         * Sets ith "EventStatus" element
+         */
+        void setEventStatusArray(int i, org.tranxml.tranXML.version40.EventStatusDocument.EventStatus eventStatus);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "EventStatus" element
+         */
+        org.tranxml.tranXML.version40.EventStatusDocument.EventStatus insertNewEventStatus(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "EventStatus" element
+         */
+        org.tranxml.tranXML.version40.EventStatusDocument.EventStatus addNewEventStatus();
+        
+        /**
+         * Removes the ith "EventStatus" element
+         */
+        void removeEventStatus(int i);
+        
+        /**
+         * Gets array of all "CLM_WeightEvent" elements
+         */
+        org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[] getCLMWeightEventArray();
+        
+        /**
+         * Gets ith "CLM_WeightEvent" element
+         */
+        org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent getCLMWeightEventArray(int i);
+        
+        /**
+         * Returns number of "CLM_WeightEvent" element
+         */
+        int sizeOfCLMWeightEventArray();
+        
+        /**
+         * Sets array of all "CLM_WeightEvent" element
+         */
+        void setCLMWeightEventArray(org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[] clmWeightEventArray);
+        
+        /**
+         * Sets ith "CLM_WeightEvent" element
+         */
+        void setCLMWeightEventArray(int i, org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent clmWeightEvent);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "CLM_WeightEvent" element
+         */
+        org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent insertNewCLMWeightEvent(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "CLM_WeightEvent" element
+         */
+        org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent addNewCLMWeightEvent();
+        
+        /**
+         * Removes the ith "CLM_WeightEvent" element
+         */
+        void removeCLMWeightEvent(int i);
+        
+        /**
+         * Gets the "UserExtensions" element
+         */
+        org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions getUserExtensions();
+        
+        /**
+         * True if has "UserExtensions" element
+         */
+        boolean isSetUserExtensions();
+        
+        /**
+         * Sets the "UserExtensions" element
+         */
+        void setUserExtensions(org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions userExtensions);
+        
+        /**
+         * Appends and returns a new empty "UserExtensions" element
+         */
+        org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions addNewUserExtensions();
+        
+        /**
+         * Unsets the "UserExtensions" element
+         */
+        void unsetUserExtensions();
+        
+        /**
+         * Gets the "Transaction" attribute
+         */
+        org.tranxml.tranXML.version40.CLMTransactionCodeList.Enum getTransaction();
+        
+        /**
+         * Gets (as xml) the "Transaction" attribute
+         */
+        org.tranxml.tranXML.version40.CLMTransactionCodeList xgetTransaction();
+        
+        /**
+         * Sets the "Transaction" attribute
+         */
+        void setTransaction(org.tranxml.tranXML.version40.CLMTransactionCodeList.Enum transaction);
+        
+        /**
+         * Sets (as xml) the "Transaction" attribute
+         */
+        void xsetTransaction(org.tranxml.tranXML.version40.CLMTransactionCodeList transaction);
+        
+        /**
+         * Gets the "Version" attribute
+         */
+        java.lang.String getVersion();
+        
+        /**
+         * Gets (as xml) the "Version" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetVersion();
+        
+        /**
+         * True if has "Version" attribute
+         */
+        boolean isSetVersion();
+        
+        /**
+         * Sets the "Version" attribute
+         */
+        void setVersion(java.lang.String version);
+        
+        /**
+         * Sets (as xml) the "Version" attribute
+         */
+        void xsetVersion(org.apache.xmlbeans.XmlString version);
+        
+        /**
+         * Unsets the "Version" attribute
+         */
+        void unsetVersion();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage newInstance() {
+              return (org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument newInstance() {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CarLocationMessageDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CarLocationMessageDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,949 @@
+/*
+ * XML Type:  CodeList1650
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList1650
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList1650(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList1650.
+ */
+public interface CodeList1650 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList1650.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist1650c14btype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum A_3 = Enum.forString("A3");
+    static final Enum A_7 = Enum.forString("A7");
+    static final Enum A_9 = Enum.forString("A9");
+    static final Enum AF = Enum.forString("AF");
+    static final Enum AG = Enum.forString("AG");
+    static final Enum AH = Enum.forString("AH");
+    static final Enum AI = Enum.forString("AI");
+    static final Enum AJ = Enum.forString("AJ");
+    static final Enum AM = Enum.forString("AM");
+    static final Enum AN = Enum.forString("AN");
+    static final Enum AP = Enum.forString("AP");
+    static final Enum AR = Enum.forString("AR");
+    static final Enum AV = Enum.forString("AV");
+    static final Enum B_6 = Enum.forString("B6");
+    static final Enum BA = Enum.forString("BA");
+    static final Enum BC = Enum.forString("BC");
+    static final Enum C_1 = Enum.forString("C1");
+    static final Enum CA = Enum.forString("CA");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CL = Enum.forString("CL");
+    static final Enum CP = Enum.forString("CP");
+    static final Enum D_1 = Enum.forString("D1");
+    static final Enum I_1 = Enum.forString("I1");
+    static final Enum J_1 = Enum.forString("J1");
+    static final Enum K_1 = Enum.forString("K1");
+    static final Enum L_1 = Enum.forString("L1");
+    static final Enum OA = Enum.forString("OA");
+    static final Enum OO = Enum.forString("OO");
+    static final Enum P_1 = Enum.forString("P1");
+    static final Enum PA = Enum.forString("PA");
+    static final Enum PR = Enum.forString("PR");
+    static final Enum R_1 = Enum.forString("R1");
+    static final Enum RL = Enum.forString("RL");
+    static final Enum S_1 = Enum.forString("S1");
+    static final Enum SD = Enum.forString("SD");
+    static final Enum X_1 = Enum.forString("X1");
+    static final Enum X_2 = Enum.forString("X2");
+    static final Enum X_3 = Enum.forString("X3");
+    static final Enum X_4 = Enum.forString("X4");
+    static final Enum X_5 = Enum.forString("X5");
+    static final Enum X_6 = Enum.forString("X6");
+    static final Enum X_8 = Enum.forString("X8");
+    static final Enum XB = Enum.forString("XB");
+    static final Enum X_2_2 = Enum.forString("2");
+    static final Enum X_3_2 = Enum.forString("3");
+    static final Enum A = Enum.forString("A");
+    static final Enum B = Enum.forString("B");
+    static final Enum C = Enum.forString("C");
+    static final Enum D = Enum.forString("D");
+    static final Enum E = Enum.forString("E");
+    static final Enum F = Enum.forString("F");
+    static final Enum G = Enum.forString("G");
+    static final Enum H = Enum.forString("H");
+    static final Enum I = Enum.forString("I");
+    static final Enum J = Enum.forString("J");
+    static final Enum K = Enum.forString("K");
+    static final Enum L = Enum.forString("L");
+    static final Enum N = Enum.forString("N");
+    static final Enum O = Enum.forString("O");
+    static final Enum P = Enum.forString("P");
+    static final Enum R = Enum.forString("R");
+    static final Enum S = Enum.forString("S");
+    static final Enum T = Enum.forString("T");
+    static final Enum U = Enum.forString("U");
+    static final Enum V = Enum.forString("V");
+    static final Enum W = Enum.forString("W");
+    static final Enum X = Enum.forString("X");
+    static final Enum Y = Enum.forString("Y");
+    static final Enum Z = Enum.forString("Z");
+    static final Enum A_1 = Enum.forString("A1");
+    static final Enum A_2 = Enum.forString("A2");
+    static final Enum A_4 = Enum.forString("A4");
+    static final Enum AA = Enum.forString("AA");
+    static final Enum AC = Enum.forString("AC");
+    static final Enum AD = Enum.forString("AD");
+    static final Enum AE = Enum.forString("AE");
+    static final Enum AL = Enum.forString("AL");
+    static final Enum AO = Enum.forString("AO");
+    static final Enum AU = Enum.forString("AU");
+    static final Enum AW = Enum.forString("AW");
+    static final Enum BD = Enum.forString("BD");
+    static final Enum BE = Enum.forString("BE");
+    static final Enum BF = Enum.forString("BF");
+    static final Enum BR = Enum.forString("BR");
+    static final Enum C_2 = Enum.forString("C2");
+    static final Enum CC = Enum.forString("CC");
+    static final Enum CI = Enum.forString("CI");
+    static final Enum CO = Enum.forString("CO");
+    static final Enum CR = Enum.forString("CR");
+    static final Enum CS = Enum.forString("CS");
+    static final Enum CT = Enum.forString("CT");
+    static final Enum CU = Enum.forString("CU");
+    static final Enum CV = Enum.forString("CV");
+    static final Enum DA = Enum.forString("DA");
+    static final Enum DC = Enum.forString("DC");
+    static final Enum DN = Enum.forString("DN");
+    static final Enum DO = Enum.forString("DO");
+    static final Enum DP = Enum.forString("DP");
+    static final Enum DR = Enum.forString("DR");
+    static final Enum DS = Enum.forString("DS");
+    static final Enum DT = Enum.forString("DT");
+    static final Enum EA = Enum.forString("EA");
+    static final Enum EC = Enum.forString("EC");
+    static final Enum ED = Enum.forString("ED");
+    static final Enum EE = Enum.forString("EE");
+    static final Enum EI = Enum.forString("EI");
+    static final Enum EP = Enum.forString("EP");
+    static final Enum ER = Enum.forString("ER");
+    static final Enum FP = Enum.forString("FP");
+    static final Enum FT = Enum.forString("FT");
+    static final Enum GI = Enum.forString("GI");
+    static final Enum GO = Enum.forString("GO");
+    static final Enum HA = Enum.forString("HA");
+    static final Enum HE = Enum.forString("HE");
+    static final Enum HF = Enum.forString("HF");
+    static final Enum HG = Enum.forString("HG");
+    static final Enum HH = Enum.forString("HH");
+    static final Enum HI = Enum.forString("HI");
+    static final Enum HR = Enum.forString("HR");
+    static final Enum IB = Enum.forString("IB");
+    static final Enum IR = Enum.forString("IR");
+    static final Enum LD = Enum.forString("LD");
+    static final Enum LP = Enum.forString("LP");
+    static final Enum MT = Enum.forString("MT");
+    static final Enum NC = Enum.forString("NC");
+    static final Enum ND = Enum.forString("ND");
+    static final Enum NF = Enum.forString("NF");
+    static final Enum NH = Enum.forString("NH");
+    static final Enum NO = Enum.forString("NO");
+    static final Enum NP = Enum.forString("NP");
+    static final Enum NR = Enum.forString("NR");
+    static final Enum NS = Enum.forString("NS");
+    static final Enum NT = Enum.forString("NT");
+    static final Enum NU = Enum.forString("NU");
+    static final Enum OB = Enum.forString("OB");
+    static final Enum OF = Enum.forString("OF");
+    static final Enum OH = Enum.forString("OH");
+    static final Enum ON = Enum.forString("ON");
+    static final Enum PB = Enum.forString("PB");
+    static final Enum PC = Enum.forString("PC");
+    static final Enum PD = Enum.forString("PD");
+    static final Enum PE = Enum.forString("PE");
+    static final Enum PF = Enum.forString("PF");
+    static final Enum PG = Enum.forString("PG");
+    static final Enum PH = Enum.forString("PH");
+    static final Enum PI = Enum.forString("PI");
+    static final Enum PJ = Enum.forString("PJ");
+    static final Enum PK = Enum.forString("PK");
+    static final Enum PL = Enum.forString("PL");
+    static final Enum PM = Enum.forString("PM");
+    static final Enum PN = Enum.forString("PN");
+    static final Enum PO = Enum.forString("PO");
+    static final Enum PP = Enum.forString("PP");
+    static final Enum PQ = Enum.forString("PQ");
+    static final Enum PS = Enum.forString("PS");
+    static final Enum PT = Enum.forString("PT");
+    static final Enum PU = Enum.forString("PU");
+    static final Enum PV = Enum.forString("PV");
+    static final Enum PW = Enum.forString("PW");
+    static final Enum PX = Enum.forString("PX");
+    static final Enum RA = Enum.forString("RA");
+    static final Enum RB = Enum.forString("RB");
+    static final Enum RC = Enum.forString("RC");
+    static final Enum RD = Enum.forString("RD");
+    static final Enum RI = Enum.forString("RI");
+    static final Enum RN = Enum.forString("RN");
+    static final Enum SA = Enum.forString("SA");
+    static final Enum SB = Enum.forString("SB");
+    static final Enum SC = Enum.forString("SC");
+    static final Enum SI = Enum.forString("SI");
+    static final Enum SN = Enum.forString("SN");
+    static final Enum SS = Enum.forString("SS");
+    static final Enum TC = Enum.forString("TC");
+    static final Enum TM = Enum.forString("TM");
+    static final Enum TO = Enum.forString("TO");
+    static final Enum UA = Enum.forString("UA");
+    static final Enum UB = Enum.forString("UB");
+    static final Enum UC = Enum.forString("UC");
+    static final Enum UD = Enum.forString("UD");
+    static final Enum UE = Enum.forString("UE");
+    static final Enum UP = Enum.forString("UP");
+    static final Enum UR = Enum.forString("UR");
+    static final Enum UV = Enum.forString("UV");
+    static final Enum UW = Enum.forString("UW");
+    static final Enum VA = Enum.forString("VA");
+    static final Enum VD = Enum.forString("VD");
+    static final Enum WH = Enum.forString("WH");
+    static final Enum WR = Enum.forString("WR");
+    static final Enum X_7 = Enum.forString("X7");
+    static final Enum X_9 = Enum.forString("X9");
+    static final Enum XA = Enum.forString("XA");
+    static final Enum ZZ = Enum.forString("ZZ");
+    
+    static final int INT_A_7 = Enum.INT_A_7;
+    static final int INT_A_9 = Enum.INT_A_9;
+    static final int INT_B_6 = Enum.INT_B_6;
+    static final int INT_CL = Enum.INT_CL;
+    static final int INT_CP = Enum.INT_CP;
+    static final int INT_D_1 = Enum.INT_D_1;
+    static final int INT_I_1 = Enum.INT_I_1;
+    static final int INT_J_1 = Enum.INT_J_1;
+    static final int INT_K_1 = Enum.INT_K_1;
+    static final int INT_L_1 = Enum.INT_L_1;
+    static final int INT_OO = Enum.INT_OO;
+    static final int INT_P_1 = Enum.INT_P_1;
+    static final int INT_R_1 = Enum.INT_R_1;
+    static final int INT_S_1 = Enum.INT_S_1;
+    static final int INT_X_2_2 = Enum.INT_X_2_2;
+    static final int INT_X_3_2 = Enum.INT_X_3_2;
+    static final int INT_A = Enum.INT_A;
+    static final int INT_B = Enum.INT_B;
+    static final int INT_C = Enum.INT_C;
+    static final int INT_D = Enum.INT_D;
+    static final int INT_E = Enum.INT_E;
+    static final int INT_F = Enum.INT_F;
+    static final int INT_G = Enum.INT_G;
+    static final int INT_H = Enum.INT_H;
+    static final int INT_I = Enum.INT_I;
+    static final int INT_J = Enum.INT_J;
+    static final int INT_K = Enum.INT_K;
+    static final int INT_L = Enum.INT_L;
+    static final int INT_N = Enum.INT_N;
+    static final int INT_O = Enum.INT_O;
+    static final int INT_P = Enum.INT_P;
+    static final int INT_R = Enum.INT_R;
+    static final int INT_S = Enum.INT_S;
+    static final int INT_T = Enum.INT_T;
+    static final int INT_U = Enum.INT_U;
+    static final int INT_V = Enum.INT_V;
+    static final int INT_W = Enum.INT_W;
+    static final int INT_X = Enum.INT_X;
+    static final int INT_Y = Enum.INT_Y;
+    static final int INT_Z = Enum.INT_Z;
+    static final int INT_A_1 = Enum.INT_A_1;
+    static final int INT_A_2 = Enum.INT_A_2;
+    static final int INT_A_4 = Enum.INT_A_4;
+    static final int INT_AA = Enum.INT_AA;
+    static final int INT_AC = Enum.INT_AC;
+    static final int INT_AD = Enum.INT_AD;
+    static final int INT_AE = Enum.INT_AE;
+    static final int INT_AL = Enum.INT_AL;
+    static final int INT_AO = Enum.INT_AO;
+    static final int INT_AU = Enum.INT_AU;
+    static final int INT_AW = Enum.INT_AW;
+    static final int INT_BD = Enum.INT_BD;
+    static final int INT_BE = Enum.INT_BE;
+    static final int INT_BF = Enum.INT_BF;
+    static final int INT_BR = Enum.INT_BR;
+    static final int INT_C_2 = Enum.INT_C_2;
+    static final int INT_CC = Enum.INT_CC;
+    static final int INT_CI = Enum.INT_CI;
+    static final int INT_CO = Enum.INT_CO;
+    static final int INT_CR = Enum.INT_CR;
+    static final int INT_CS = Enum.INT_CS;
+    static final int INT_CT = Enum.INT_CT;
+    static final int INT_CU = Enum.INT_CU;
+    static final int INT_CV = Enum.INT_CV;
+    static final int INT_DA = Enum.INT_DA;
+    static final int INT_DC = Enum.INT_DC;
+    static final int INT_DN = Enum.INT_DN;
+    static final int INT_DO = Enum.INT_DO;
+    static final int INT_DP = Enum.INT_DP;
+    static final int INT_DR = Enum.INT_DR;
+    static final int INT_DS = Enum.INT_DS;
+    static final int INT_DT = Enum.INT_DT;
+    static final int INT_EA = Enum.INT_EA;
+    static final int INT_EC = Enum.INT_EC;
+    static final int INT_ED = Enum.INT_ED;
+    static final int INT_EE = Enum.INT_EE;
+    static final int INT_EI = Enum.INT_EI;
+    static final int INT_EP = Enum.INT_EP;
+    static final int INT_ER = Enum.INT_ER;
+    static final int INT_FP = Enum.INT_FP;
+    static final int INT_FT = Enum.INT_FT;
+    static final int INT_GI = Enum.INT_GI;
+    static final int INT_GO = Enum.INT_GO;
+    static final int INT_HA = Enum.INT_HA;
+    static final int INT_HE = Enum.INT_HE;
+    static final int INT_HF = Enum.INT_HF;
+    static final int INT_HG = Enum.INT_HG;
+    static final int INT_HH = Enum.INT_HH;
+    static final int INT_HI = Enum.INT_HI;
+    static final int INT_HR = Enum.INT_HR;
+    static final int INT_IB = Enum.INT_IB;
+    static final int INT_IR = Enum.INT_IR;
+    static final int INT_LD = Enum.INT_LD;
+    static final int INT_LP = Enum.INT_LP;
+    static final int INT_MT = Enum.INT_MT;
+    static final int INT_NC = Enum.INT_NC;
+    static final int INT_ND = Enum.INT_ND;
+    static final int INT_NF = Enum.INT_NF;
+    static final int INT_NH = Enum.INT_NH;
+    static final int INT_NO = Enum.INT_NO;
+    static final int INT_NP = Enum.INT_NP;
+    static final int INT_NR = Enum.INT_NR;
+    static final int INT_NS = Enum.INT_NS;
+    static final int INT_NT = Enum.INT_NT;
+    static final int INT_NU = Enum.INT_NU;
+    static final int INT_OB = Enum.INT_OB;
+    static final int INT_OF = Enum.INT_OF;
+    static final int INT_OH = Enum.INT_OH;
+    static final int INT_ON = Enum.INT_ON;
+    static final int INT_PB = Enum.INT_PB;
+    static final int INT_PC = Enum.INT_PC;
+    static final int INT_PD = Enum.INT_PD;
+    static final int INT_PE = Enum.INT_PE;
+    static final int INT_PF = Enum.INT_PF;
+    static final int INT_PG = Enum.INT_PG;
+    static final int INT_PH = Enum.INT_PH;
+    static final int INT_PI = Enum.INT_PI;
+    static final int INT_PJ = Enum.INT_PJ;
+    static final int INT_PK = Enum.INT_PK;
+    static final int INT_PL = Enum.INT_PL;
+    static final int INT_PM = Enum.INT_PM;
+    static final int INT_PN = Enum.INT_PN;
+    static final int INT_PO = Enum.INT_PO;
+    static final int INT_PP = Enum.INT_PP;
+    static final int INT_PQ = Enum.INT_PQ;
+    static final int INT_PS = Enum.INT_PS;
+    static final int INT_PT = Enum.INT_PT;
+    static final int INT_PU = Enum.INT_PU;
+    static final int INT_PV = Enum.INT_PV;
+    static final int INT_PW = Enum.INT_PW;
+    static final int INT_PX = Enum.INT_PX;
+    static final int INT_RA = Enum.INT_RA;
+    static final int INT_RB = Enum.INT_RB;
+    static final int INT_RC = Enum.INT_RC;
+    static final int INT_RD = Enum.INT_RD;
+    static final int INT_RI = Enum.INT_RI;
+    static final int INT_RN = Enum.INT_RN;
+    static final int INT_SA = Enum.INT_SA;
+    static final int INT_SB = Enum.INT_SB;
+    static final int INT_SC = Enum.INT_SC;
+    static final int INT_SI = Enum.INT_SI;
+    static final int INT_SN = Enum.INT_SN;
+    static final int INT_SS = Enum.INT_SS;
+    static final int INT_TC = Enum.INT_TC;
+    static final int INT_TM = Enum.INT_TM;
+    static final int INT_TO = Enum.INT_TO;
+    static final int INT_UA = Enum.INT_UA;
+    static final int INT_UB = Enum.INT_UB;
+    static final int INT_UC = Enum.INT_UC;
+    static final int INT_UD = Enum.INT_UD;
+    static final int INT_UE = Enum.INT_UE;
+    static final int INT_UP = Enum.INT_UP;
+    static final int INT_UR = Enum.INT_UR;
+    static final int INT_UV = Enum.INT_UV;
+    static final int INT_UW = Enum.INT_UW;
+    static final int INT_VA = Enum.INT_VA;
+    static final int INT_VD = Enum.INT_VD;
+    static final int INT_WH = Enum.INT_WH;
+    static final int INT_WR = Enum.INT_WR;
+    static final int INT_X_7 = Enum.INT_X_7;
+    static final int INT_X_9 = Enum.INT_X_9;
+    static final int INT_XA = Enum.INT_XA;
+    static final int INT_ZZ = Enum.INT_ZZ;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList1650.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_A_3
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_A_3 = 1;
+        static final int INT_A_7 = 2;
+        static final int INT_A_9 = 3;
+        static final int INT_AF = 4;
+        static final int INT_AG = 5;
+        static final int INT_AH = 6;
+        static final int INT_AI = 7;
+        static final int INT_AJ = 8;
+        static final int INT_AM = 9;
+        static final int INT_AN = 10;
+        static final int INT_AP = 11;
+        static final int INT_AR = 12;
+        static final int INT_AV = 13;
+        static final int INT_B_6 = 14;
+        static final int INT_BA = 15;
+        static final int INT_BC = 16;
+        static final int INT_C_1 = 17;
+        static final int INT_CA = 18;
+        static final int INT_CB = 19;
+        static final int INT_CD = 20;
+        static final int INT_CL = 21;
+        static final int INT_CP = 22;
+        static final int INT_D_1 = 23;
+        static final int INT_I_1 = 24;
+        static final int INT_J_1 = 25;
+        static final int INT_K_1 = 26;
+        static final int INT_L_1 = 27;
+        static final int INT_OA = 28;
+        static final int INT_OO = 29;
+        static final int INT_P_1 = 30;
+        static final int INT_PA = 31;
+        static final int INT_PR = 32;
+        static final int INT_R_1 = 33;
+        static final int INT_RL = 34;
+        static final int INT_S_1 = 35;
+        static final int INT_SD = 36;
+        static final int INT_X_1 = 37;
+        static final int INT_X_2 = 38;
+        static final int INT_X_3 = 39;
+        static final int INT_X_4 = 40;
+        static final int INT_X_5 = 41;
+        static final int INT_X_6 = 42;
+        static final int INT_X_8 = 43;
+        static final int INT_XB = 44;
+        static final int INT_X_2_2 = 45;
+        static final int INT_X_3_2 = 46;
+        static final int INT_A = 47;
+        static final int INT_B = 48;
+        static final int INT_C = 49;
+        static final int INT_D = 50;
+        static final int INT_E = 51;
+        static final int INT_F = 52;
+        static final int INT_G = 53;
+        static final int INT_H = 54;
+        static final int INT_I = 55;
+        static final int INT_J = 56;
+        static final int INT_K = 57;
+        static final int INT_L = 58;
+        static final int INT_N = 59;
+        static final int INT_O = 60;
+        static final int INT_P = 61;
+        static final int INT_R = 62;
+        static final int INT_S = 63;
+        static final int INT_T = 64;
+        static final int INT_U = 65;
+        static final int INT_V = 66;
+        static final int INT_W = 67;
+        static final int INT_X = 68;
+        static final int INT_Y = 69;
+        static final int INT_Z = 70;
+        static final int INT_A_1 = 71;
+        static final int INT_A_2 = 72;
+        static final int INT_A_3_2 = 73;
+        static final int INT_A_4 = 74;
+        static final int INT_AA = 75;
+        static final int INT_AC = 76;
+        static final int INT_AD = 77;
+        static final int INT_AE = 78;
+        static final int INT_AF_2 = 79;
+        static final int INT_AG_2 = 80;
+        static final int INT_AH_2 = 81;
+        static final int INT_AI_2 = 82;
+        static final int INT_AJ_2 = 83;
+        static final int INT_AL = 84;
+        static final int INT_AM_2 = 85;
+        static final int INT_AN_2 = 86;
+        static final int INT_AO = 87;
+        static final int INT_AP_2 = 88;
+        static final int INT_AR_2 = 89;
+        static final int INT_AU = 90;
+        static final int INT_AV_2 = 91;
+        static final int INT_AW = 92;
+        static final int INT_BA_2 = 93;
+        static final int INT_BC_2 = 94;
+        static final int INT_BD = 95;
+        static final int INT_BE = 96;
+        static final int INT_BF = 97;
+        static final int INT_BR = 98;
+        static final int INT_C_1_2 = 99;
+        static final int INT_C_2 = 100;
+        static final int INT_CA_2 = 101;
+        static final int INT_CB_2 = 102;
+        static final int INT_CC = 103;
+        static final int INT_CD_2 = 104;
+        static final int INT_CI = 105;
+        static final int INT_CO = 106;
+        static final int INT_CR = 107;
+        static final int INT_CS = 108;
+        static final int INT_CT = 109;
+        static final int INT_CU = 110;
+        static final int INT_CV = 111;
+        static final int INT_DA = 112;
+        static final int INT_DC = 113;
+        static final int INT_DN = 114;
+        static final int INT_DO = 115;
+        static final int INT_DP = 116;
+        static final int INT_DR = 117;
+        static final int INT_DS = 118;
+        static final int INT_DT = 119;
+        static final int INT_EA = 120;
+        static final int INT_EC = 121;
+        static final int INT_ED = 122;
+        static final int INT_EE = 123;
+        static final int INT_EI = 124;
+        static final int INT_EP = 125;
+        static final int INT_ER = 126;
+        static final int INT_FP = 127;
+        static final int INT_FT = 128;
+        static final int INT_GI = 129;
+        static final int INT_GO = 130;
+        static final int INT_HA = 131;
+        static final int INT_HE = 132;
+        static final int INT_HF = 133;
+        static final int INT_HG = 134;
+        static final int INT_HH = 135;
+        static final int INT_HI = 136;
+        static final int INT_HR = 137;
+        static final int INT_IB = 138;
+        static final int INT_IR = 139;
+        static final int INT_LD = 140;
+        static final int INT_LP = 141;
+        static final int INT_MT = 142;
+        static final int INT_NC = 143;
+        static final int INT_ND = 144;
+        static final int INT_NF = 145;
+        static final int INT_NH = 146;
+        static final int INT_NO = 147;
+        static final int INT_NP = 148;
+        static final int INT_NR = 149;
+        static final int INT_NS = 150;
+        static final int INT_NT = 151;
+        static final int INT_NU = 152;
+        static final int INT_OA_2 = 153;
+        static final int INT_OB = 154;
+        static final int INT_OF = 155;
+        static final int INT_OH = 156;
+        static final int INT_ON = 157;
+        static final int INT_PA_2 = 158;
+        static final int INT_PB = 159;
+        static final int INT_PC = 160;
+        static final int INT_PD = 161;
+        static final int INT_PE = 162;
+        static final int INT_PF = 163;
+        static final int INT_PG = 164;
+        static final int INT_PH = 165;
+        static final int INT_PI = 166;
+        static final int INT_PJ = 167;
+        static final int INT_PK = 168;
+        static final int INT_PL = 169;
+        static final int INT_PM = 170;
+        static final int INT_PN = 171;
+        static final int INT_PO = 172;
+        static final int INT_PP = 173;
+        static final int INT_PQ = 174;
+        static final int INT_PR_2 = 175;
+        static final int INT_PS = 176;
+        static final int INT_PT = 177;
+        static final int INT_PU = 178;
+        static final int INT_PV = 179;
+        static final int INT_PW = 180;
+        static final int INT_PX = 181;
+        static final int INT_RA = 182;
+        static final int INT_RB = 183;
+        static final int INT_RC = 184;
+        static final int INT_RD = 185;
+        static final int INT_RI = 186;
+        static final int INT_RL_2 = 187;
+        static final int INT_RN = 188;
+        static final int INT_SA = 189;
+        static final int INT_SB = 190;
+        static final int INT_SC = 191;
+        static final int INT_SD_2 = 192;
+        static final int INT_SI = 193;
+        static final int INT_SN = 194;
+        static final int INT_SS = 195;
+        static final int INT_TC = 196;
+        static final int INT_TM = 197;
+        static final int INT_TO = 198;
+        static final int INT_UA = 199;
+        static final int INT_UB = 200;
+        static final int INT_UC = 201;
+        static final int INT_UD = 202;
+        static final int INT_UE = 203;
+        static final int INT_UP = 204;
+        static final int INT_UR = 205;
+        static final int INT_UV = 206;
+        static final int INT_UW = 207;
+        static final int INT_VA = 208;
+        static final int INT_VD = 209;
+        static final int INT_WH = 210;
+        static final int INT_WR = 211;
+        static final int INT_X_1_2 = 212;
+        static final int INT_X_2_3 = 213;
+        static final int INT_X_3_3 = 214;
+        static final int INT_X_4_2 = 215;
+        static final int INT_X_5_2 = 216;
+        static final int INT_X_6_2 = 217;
+        static final int INT_X_7 = 218;
+        static final int INT_X_8_2 = 219;
+        static final int INT_X_9 = 220;
+        static final int INT_XA = 221;
+        static final int INT_XB_2 = 222;
+        static final int INT_ZZ = 223;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("A3", INT_A_3),
+                new Enum("A7", INT_A_7),
+                new Enum("A9", INT_A_9),
+                new Enum("AF", INT_AF),
+                new Enum("AG", INT_AG),
+                new Enum("AH", INT_AH),
+                new Enum("AI", INT_AI),
+                new Enum("AJ", INT_AJ),
+                new Enum("AM", INT_AM),
+                new Enum("AN", INT_AN),
+                new Enum("AP", INT_AP),
+                new Enum("AR", INT_AR),
+                new Enum("AV", INT_AV),
+                new Enum("B6", INT_B_6),
+                new Enum("BA", INT_BA),
+                new Enum("BC", INT_BC),
+                new Enum("C1", INT_C_1),
+                new Enum("CA", INT_CA),
+                new Enum("CB", INT_CB),
+                new Enum("CD", INT_CD),
+                new Enum("CL", INT_CL),
+                new Enum("CP", INT_CP),
+                new Enum("D1", INT_D_1),
+                new Enum("I1", INT_I_1),
+                new Enum("J1", INT_J_1),
+                new Enum("K1", INT_K_1),
+                new Enum("L1", INT_L_1),
+                new Enum("OA", INT_OA),
+                new Enum("OO", INT_OO),
+                new Enum("P1", INT_P_1),
+                new Enum("PA", INT_PA),
+                new Enum("PR", INT_PR),
+                new Enum("R1", INT_R_1),
+                new Enum("RL", INT_RL),
+                new Enum("S1", INT_S_1),
+                new Enum("SD", INT_SD),
+                new Enum("X1", INT_X_1),
+                new Enum("X2", INT_X_2),
+                new Enum("X3", INT_X_3),
+                new Enum("X4", INT_X_4),
+                new Enum("X5", INT_X_5),
+                new Enum("X6", INT_X_6),
+                new Enum("X8", INT_X_8),
+                new Enum("XB", INT_XB),
+                new Enum("2", INT_X_2_2),
+                new Enum("3", INT_X_3_2),
+                new Enum("A", INT_A),
+                new Enum("B", INT_B),
+                new Enum("C", INT_C),
+                new Enum("D", INT_D),
+                new Enum("E", INT_E),
+                new Enum("F", INT_F),
+                new Enum("G", INT_G),
+                new Enum("H", INT_H),
+                new Enum("I", INT_I),
+                new Enum("J", INT_J),
+                new Enum("K", INT_K),
+                new Enum("L", INT_L),
+                new Enum("N", INT_N),
+                new Enum("O", INT_O),
+                new Enum("P", INT_P),
+                new Enum("R", INT_R),
+                new Enum("S", INT_S),
+                new Enum("T", INT_T),
+                new Enum("U", INT_U),
+                new Enum("V", INT_V),
+                new Enum("W", INT_W),
+                new Enum("X", INT_X),
+                new Enum("Y", INT_Y),
+                new Enum("Z", INT_Z),
+                new Enum("A1", INT_A_1),
+                new Enum("A2", INT_A_2),
+                new Enum("A3", INT_A_3_2),
+                new Enum("A4", INT_A_4),
+                new Enum("AA", INT_AA),
+                new Enum("AC", INT_AC),
+                new Enum("AD", INT_AD),
+                new Enum("AE", INT_AE),
+                new Enum("AF", INT_AF_2),
+                new Enum("AG", INT_AG_2),
+                new Enum("AH", INT_AH_2),
+                new Enum("AI", INT_AI_2),
+                new Enum("AJ", INT_AJ_2),
+                new Enum("AL", INT_AL),
+                new Enum("AM", INT_AM_2),
+                new Enum("AN", INT_AN_2),
+                new Enum("AO", INT_AO),
+                new Enum("AP", INT_AP_2),
+                new Enum("AR", INT_AR_2),
+                new Enum("AU", INT_AU),
+                new Enum("AV", INT_AV_2),
+                new Enum("AW", INT_AW),
+                new Enum("BA", INT_BA_2),
+                new Enum("BC", INT_BC_2),
+                new Enum("BD", INT_BD),
+                new Enum("BE", INT_BE),
+                new Enum("BF", INT_BF),
+                new Enum("BR", INT_BR),
+                new Enum("C1", INT_C_1_2),
+                new Enum("C2", INT_C_2),
+                new Enum("CA", INT_CA_2),
+                new Enum("CB", INT_CB_2),
+                new Enum("CC", INT_CC),
+                new Enum("CD", INT_CD_2),
+                new Enum("CI", INT_CI),
+                new Enum("CO", INT_CO),
+                new Enum("CR", INT_CR),
+                new Enum("CS", INT_CS),
+                new Enum("CT", INT_CT),
+                new Enum("CU", INT_CU),
+                new Enum("CV", INT_CV),
+                new Enum("DA", INT_DA),
+                new Enum("DC", INT_DC),
+                new Enum("DN", INT_DN),
+                new Enum("DO", INT_DO),
+                new Enum("DP", INT_DP),
+                new Enum("DR", INT_DR),
+                new Enum("DS", INT_DS),
+                new Enum("DT", INT_DT),
+                new Enum("EA", INT_EA),
+                new Enum("EC", INT_EC),
+                new Enum("ED", INT_ED),
+                new Enum("EE", INT_EE),
+                new Enum("EI", INT_EI),
+                new Enum("EP", INT_EP),
+                new Enum("ER", INT_ER),
+                new Enum("FP", INT_FP),
+                new Enum("FT", INT_FT),
+                new Enum("GI", INT_GI),
+                new Enum("GO", INT_GO),
+                new Enum("HA", INT_HA),
+                new Enum("HE", INT_HE),
+                new Enum("HF", INT_HF),
+                new Enum("HG", INT_HG),
+                new Enum("HH", INT_HH),
+                new Enum("HI", INT_HI),
+                new Enum("HR", INT_HR),
+                new Enum("IB", INT_IB),
+                new Enum("IR", INT_IR),
+                new Enum("LD", INT_LD),
+                new Enum("LP", INT_LP),
+                new Enum("MT", INT_MT),
+                new Enum("NC", INT_NC),
+                new Enum("ND", INT_ND),
+                new Enum("NF", INT_NF),
+                new Enum("NH", INT_NH),
+                new Enum("NO", INT_NO),
+                new Enum("NP", INT_NP),
+                new Enum("NR", INT_NR),
+                new Enum("NS", INT_NS),
+                new Enum("NT", INT_NT),
+                new Enum("NU", INT_NU),
+                new Enum("OA", INT_OA_2),
+                new Enum("OB", INT_OB),
+                new Enum("OF", INT_OF),
+                new Enum("OH", INT_OH),
+                new Enum("ON", INT_ON),
+                new Enum("PA", INT_PA_2),
+                new Enum("PB", INT_PB),
+                new Enum("PC", INT_PC),
+                new Enum("PD", INT_PD),
+                new Enum("PE", INT_PE),
+                new Enum("PF", INT_PF),
+                new Enum("PG", INT_PG),
+                new Enum("PH", INT_PH),
+                new Enum("PI", INT_PI),
+                new Enum("PJ", INT_PJ),
+                new Enum("PK", INT_PK),
+                new Enum("PL", INT_PL),
+                new Enum("PM", INT_PM),
+                new Enum("PN", INT_PN),
+                new Enum("PO", INT_PO),
+                new Enum("PP", INT_PP),
+                new Enum("PQ", INT_PQ),
+                new Enum("PR", INT_PR_2),
+                new Enum("PS", INT_PS),
+                new Enum("PT", INT_PT),
+                new Enum("PU", INT_PU),
+                new Enum("PV", INT_PV),
+                new Enum("PW", INT_PW),
+                new Enum("PX", INT_PX),
+                new Enum("RA", INT_RA),
+                new Enum("RB", INT_RB),
+                new Enum("RC", INT_RC),
+                new Enum("RD", INT_RD),
+                new Enum("RI", INT_RI),
+                new Enum("RL", INT_RL_2),
+                new Enum("RN", INT_RN),
+                new Enum("SA", INT_SA),
+                new Enum("SB", INT_SB),
+                new Enum("SC", INT_SC),
+                new Enum("SD", INT_SD_2),
+                new Enum("SI", INT_SI),
+                new Enum("SN", INT_SN),
+                new Enum("SS", INT_SS),
+                new Enum("TC", INT_TC),
+                new Enum("TM", INT_TM),
+                new Enum("TO", INT_TO),
+                new Enum("UA", INT_UA),
+                new Enum("UB", INT_UB),
+                new Enum("UC", INT_UC),
+                new Enum("UD", INT_UD),
+                new Enum("UE", INT_UE),
+                new Enum("UP", INT_UP),
+                new Enum("UR", INT_UR),
+                new Enum("UV", INT_UV),
+                new Enum("UW", INT_UW),
+                new Enum("VA", INT_VA),
+                new Enum("VD", INT_VD),
+                new Enum("WH", INT_WH),
+                new Enum("WR", INT_WR),
+                new Enum("X1", INT_X_1_2),
+                new Enum("X2", INT_X_2_3),
+                new Enum("X3", INT_X_3_3),
+                new Enum("X4", INT_X_4_2),
+                new Enum("X5", INT_X_5_2),
+                new Enum("X6", INT_X_6_2),
+                new Enum("X7", INT_X_7),
+                new Enum("X8", INT_X_8_2),
+                new Enum("X9", INT_X_9),
+                new Enum("XA", INT_XA),
+                new Enum("XB", INT_XB_2),
+                new Enum("ZZ", INT_ZZ),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList1650 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList1650) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList1650 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList1650) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * XML Type:  CodeList1651
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList1651
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList1651(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList1651.
+ */
+public interface CodeList1651 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList1651.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist1651300ctype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum A_1 = Enum.forString("A1");
+    static final Enum A_2 = Enum.forString("A2");
+    static final Enum A_3 = Enum.forString("A3");
+    static final Enum A_5 = Enum.forString("A5");
+    static final Enum A_6 = Enum.forString("A6");
+    static final Enum AA = Enum.forString("AA");
+    static final Enum AD = Enum.forString("AD");
+    static final Enum AE = Enum.forString("AE");
+    static final Enum AF = Enum.forString("AF");
+    static final Enum AG = Enum.forString("AG");
+    static final Enum AH = Enum.forString("AH");
+    static final Enum AI = Enum.forString("AI");
+    static final Enum AJ = Enum.forString("AJ");
+    static final Enum AK = Enum.forString("AK");
+    static final Enum AL = Enum.forString("AL");
+    static final Enum AM = Enum.forString("AM");
+    static final Enum AN = Enum.forString("AN");
+    static final Enum AO = Enum.forString("AO");
+    static final Enum AP = Enum.forString("AP");
+    static final Enum AQ = Enum.forString("AQ");
+    static final Enum AR = Enum.forString("AR");
+    static final Enum AS = Enum.forString("AS");
+    static final Enum AT = Enum.forString("AT");
+    static final Enum AU = Enum.forString("AU");
+    static final Enum AV = Enum.forString("AV");
+    static final Enum AW = Enum.forString("AW");
+    static final Enum AX = Enum.forString("AX");
+    static final Enum AY = Enum.forString("AY");
+    static final Enum AZ = Enum.forString("AZ");
+    static final Enum B_1 = Enum.forString("B1");
+    static final Enum B_2 = Enum.forString("B2");
+    static final Enum B_4 = Enum.forString("B4");
+    static final Enum B_5 = Enum.forString("B5");
+    static final Enum B_8 = Enum.forString("B8");
+    static final Enum B_9 = Enum.forString("B9");
+    static final Enum BB = Enum.forString("BB");
+    static final Enum BC = Enum.forString("BC");
+    static final Enum BD = Enum.forString("BD");
+    static final Enum BE = Enum.forString("BE");
+    static final Enum BF = Enum.forString("BF");
+    static final Enum BG = Enum.forString("BG");
+    static final Enum BH = Enum.forString("BH");
+    static final Enum BI = Enum.forString("BI");
+    static final Enum BJ = Enum.forString("BJ");
+    static final Enum BK = Enum.forString("BK");
+    static final Enum BL = Enum.forString("BL");
+    static final Enum BM = Enum.forString("BM");
+    static final Enum BN = Enum.forString("BN");
+    static final Enum BO = Enum.forString("BO");
+    static final Enum BP = Enum.forString("BP");
+    static final Enum BQ = Enum.forString("BQ");
+    static final Enum BR = Enum.forString("BR");
+    static final Enum BS = Enum.forString("BS");
+    static final Enum BT = Enum.forString("BT");
+    static final Enum C_1 = Enum.forString("C1");
+    static final Enum C_2 = Enum.forString("C2");
+    static final Enum C_3 = Enum.forString("C3");
+    static final Enum C_4 = Enum.forString("C4");
+    static final Enum C_5 = Enum.forString("C5");
+    static final Enum C_6 = Enum.forString("C6");
+    static final Enum C_7 = Enum.forString("C7");
+    static final Enum C_8 = Enum.forString("C8");
+    static final Enum C_9 = Enum.forString("C9");
+    static final Enum CA = Enum.forString("CA");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CC = Enum.forString("CC");
+    static final Enum D_1 = Enum.forString("D1");
+    static final Enum D_2 = Enum.forString("D2");
+    static final Enum F_1 = Enum.forString("F1");
+    static final Enum F_2 = Enum.forString("F2");
+    static final Enum HB = Enum.forString("HB");
+    static final Enum NA = Enum.forString("NA");
+    static final Enum NS = Enum.forString("NS");
+    static final Enum P_1 = Enum.forString("P1");
+    static final Enum P_2 = Enum.forString("P2");
+    static final Enum P_3 = Enum.forString("P3");
+    static final Enum P_4 = Enum.forString("P4");
+    static final Enum RC = Enum.forString("RC");
+    static final Enum S_1 = Enum.forString("S1");
+    static final Enum T_1 = Enum.forString("T1");
+    static final Enum T_2 = Enum.forString("T2");
+    static final Enum T_3 = Enum.forString("T3");
+    static final Enum T_4 = Enum.forString("T4");
+    static final Enum T_5 = Enum.forString("T5");
+    static final Enum T_6 = Enum.forString("T6");
+    static final Enum T_7 = Enum.forString("T7");
+    
+    static final int INT_A_1 = Enum.INT_A_1;
+    static final int INT_A_2 = Enum.INT_A_2;
+    static final int INT_A_3 = Enum.INT_A_3;
+    static final int INT_A_5 = Enum.INT_A_5;
+    static final int INT_A_6 = Enum.INT_A_6;
+    static final int INT_AA = Enum.INT_AA;
+    static final int INT_AD = Enum.INT_AD;
+    static final int INT_AE = Enum.INT_AE;
+    static final int INT_AF = Enum.INT_AF;
+    static final int INT_AG = Enum.INT_AG;
+    static final int INT_AH = Enum.INT_AH;
+    static final int INT_AI = Enum.INT_AI;
+    static final int INT_AJ = Enum.INT_AJ;
+    static final int INT_AK = Enum.INT_AK;
+    static final int INT_AL = Enum.INT_AL;
+    static final int INT_AM = Enum.INT_AM;
+    static final int INT_AN = Enum.INT_AN;
+    static final int INT_AO = Enum.INT_AO;
+    static final int INT_AP = Enum.INT_AP;
+    static final int INT_AQ = Enum.INT_AQ;
+    static final int INT_AR = Enum.INT_AR;
+    static final int INT_AS = Enum.INT_AS;
+    static final int INT_AT = Enum.INT_AT;
+    static final int INT_AU = Enum.INT_AU;
+    static final int INT_AV = Enum.INT_AV;
+    static final int INT_AW = Enum.INT_AW;
+    static final int INT_AX = Enum.INT_AX;
+    static final int INT_AY = Enum.INT_AY;
+    static final int INT_AZ = Enum.INT_AZ;
+    static final int INT_B_1 = Enum.INT_B_1;
+    static final int INT_B_2 = Enum.INT_B_2;
+    static final int INT_B_4 = Enum.INT_B_4;
+    static final int INT_B_5 = Enum.INT_B_5;
+    static final int INT_B_8 = Enum.INT_B_8;
+    static final int INT_B_9 = Enum.INT_B_9;
+    static final int INT_BB = Enum.INT_BB;
+    static final int INT_BC = Enum.INT_BC;
+    static final int INT_BD = Enum.INT_BD;
+    static final int INT_BE = Enum.INT_BE;
+    static final int INT_BF = Enum.INT_BF;
+    static final int INT_BG = Enum.INT_BG;
+    static final int INT_BH = Enum.INT_BH;
+    static final int INT_BI = Enum.INT_BI;
+    static final int INT_BJ = Enum.INT_BJ;
+    static final int INT_BK = Enum.INT_BK;
+    static final int INT_BL = Enum.INT_BL;
+    static final int INT_BM = Enum.INT_BM;
+    static final int INT_BN = Enum.INT_BN;
+    static final int INT_BO = Enum.INT_BO;
+    static final int INT_BP = Enum.INT_BP;
+    static final int INT_BQ = Enum.INT_BQ;
+    static final int INT_BR = Enum.INT_BR;
+    static final int INT_BS = Enum.INT_BS;
+    static final int INT_BT = Enum.INT_BT;
+    static final int INT_C_1 = Enum.INT_C_1;
+    static final int INT_C_2 = Enum.INT_C_2;
+    static final int INT_C_3 = Enum.INT_C_3;
+    static final int INT_C_4 = Enum.INT_C_4;
+    static final int INT_C_5 = Enum.INT_C_5;
+    static final int INT_C_6 = Enum.INT_C_6;
+    static final int INT_C_7 = Enum.INT_C_7;
+    static final int INT_C_8 = Enum.INT_C_8;
+    static final int INT_C_9 = Enum.INT_C_9;
+    static final int INT_CA = Enum.INT_CA;
+    static final int INT_CB = Enum.INT_CB;
+    static final int INT_CC = Enum.INT_CC;
+    static final int INT_D_1 = Enum.INT_D_1;
+    static final int INT_D_2 = Enum.INT_D_2;
+    static final int INT_F_1 = Enum.INT_F_1;
+    static final int INT_F_2 = Enum.INT_F_2;
+    static final int INT_HB = Enum.INT_HB;
+    static final int INT_NA = Enum.INT_NA;
+    static final int INT_NS = Enum.INT_NS;
+    static final int INT_P_1 = Enum.INT_P_1;
+    static final int INT_P_2 = Enum.INT_P_2;
+    static final int INT_P_3 = Enum.INT_P_3;
+    static final int INT_P_4 = Enum.INT_P_4;
+    static final int INT_RC = Enum.INT_RC;
+    static final int INT_S_1 = Enum.INT_S_1;
+    static final int INT_T_1 = Enum.INT_T_1;
+    static final int INT_T_2 = Enum.INT_T_2;
+    static final int INT_T_3 = Enum.INT_T_3;
+    static final int INT_T_4 = Enum.INT_T_4;
+    static final int INT_T_5 = Enum.INT_T_5;
+    static final int INT_T_6 = Enum.INT_T_6;
+    static final int INT_T_7 = Enum.INT_T_7;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList1651.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_A_1
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_A_1 = 1;
+        static final int INT_A_2 = 2;
+        static final int INT_A_3 = 3;
+        static final int INT_A_5 = 4;
+        static final int INT_A_6 = 5;
+        static final int INT_AA = 6;
+        static final int INT_AD = 7;
+        static final int INT_AE = 8;
+        static final int INT_AF = 9;
+        static final int INT_AG = 10;
+        static final int INT_AH = 11;
+        static final int INT_AI = 12;
+        static final int INT_AJ = 13;
+        static final int INT_AK = 14;
+        static final int INT_AL = 15;
+        static final int INT_AM = 16;
+        static final int INT_AN = 17;
+        static final int INT_AO = 18;
+        static final int INT_AP = 19;
+        static final int INT_AQ = 20;
+        static final int INT_AR = 21;
+        static final int INT_AS = 22;
+        static final int INT_AT = 23;
+        static final int INT_AU = 24;
+        static final int INT_AV = 25;
+        static final int INT_AW = 26;
+        static final int INT_AX = 27;
+        static final int INT_AY = 28;
+        static final int INT_AZ = 29;
+        static final int INT_B_1 = 30;
+        static final int INT_B_2 = 31;
+        static final int INT_B_4 = 32;
+        static final int INT_B_5 = 33;
+        static final int INT_B_8 = 34;
+        static final int INT_B_9 = 35;
+        static final int INT_BB = 36;
+        static final int INT_BC = 37;
+        static final int INT_BD = 38;
+        static final int INT_BE = 39;
+        static final int INT_BF = 40;
+        static final int INT_BG = 41;
+        static final int INT_BH = 42;
+        static final int INT_BI = 43;
+        static final int INT_BJ = 44;
+        static final int INT_BK = 45;
+        static final int INT_BL = 46;
+        static final int INT_BM = 47;
+        static final int INT_BN = 48;
+        static final int INT_BO = 49;
+        static final int INT_BP = 50;
+        static final int INT_BQ = 51;
+        static final int INT_BR = 52;
+        static final int INT_BS = 53;
+        static final int INT_BT = 54;
+        static final int INT_C_1 = 55;
+        static final int INT_C_2 = 56;
+        static final int INT_C_3 = 57;
+        static final int INT_C_4 = 58;
+        static final int INT_C_5 = 59;
+        static final int INT_C_6 = 60;
+        static final int INT_C_7 = 61;
+        static final int INT_C_8 = 62;
+        static final int INT_C_9 = 63;
+        static final int INT_CA = 64;
+        static final int INT_CB = 65;
+        static final int INT_CC = 66;
+        static final int INT_D_1 = 67;
+        static final int INT_D_2 = 68;
+        static final int INT_F_1 = 69;
+        static final int INT_F_2 = 70;
+        static final int INT_HB = 71;
+        static final int INT_NA = 72;
+        static final int INT_NS = 73;
+        static final int INT_P_1 = 74;
+        static final int INT_P_2 = 75;
+        static final int INT_P_3 = 76;
+        static final int INT_P_4 = 77;
+        static final int INT_RC = 78;
+        static final int INT_S_1 = 79;
+        static final int INT_T_1 = 80;
+        static final int INT_T_2 = 81;
+        static final int INT_T_3 = 82;
+        static final int INT_T_4 = 83;
+        static final int INT_T_5 = 84;
+        static final int INT_T_6 = 85;
+        static final int INT_T_7 = 86;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("A1", INT_A_1),
+                new Enum("A2", INT_A_2),
+                new Enum("A3", INT_A_3),
+                new Enum("A5", INT_A_5),
+                new Enum("A6", INT_A_6),
+                new Enum("AA", INT_AA),
+                new Enum("AD", INT_AD),
+                new Enum("AE", INT_AE),
+                new Enum("AF", INT_AF),
+                new Enum("AG", INT_AG),
+                new Enum("AH", INT_AH),
+                new Enum("AI", INT_AI),
+                new Enum("AJ", INT_AJ),
+                new Enum("AK", INT_AK),
+                new Enum("AL", INT_AL),
+                new Enum("AM", INT_AM),
+                new Enum("AN", INT_AN),
+                new Enum("AO", INT_AO),
+                new Enum("AP", INT_AP),
+                new Enum("AQ", INT_AQ),
+                new Enum("AR", INT_AR),
+                new Enum("AS", INT_AS),
+                new Enum("AT", INT_AT),
+                new Enum("AU", INT_AU),
+                new Enum("AV", INT_AV),
+                new Enum("AW", INT_AW),
+                new Enum("AX", INT_AX),
+                new Enum("AY", INT_AY),
+                new Enum("AZ", INT_AZ),
+                new Enum("B1", INT_B_1),
+                new Enum("B2", INT_B_2),
+                new Enum("B4", INT_B_4),
+                new Enum("B5", INT_B_5),
+                new Enum("B8", INT_B_8),
+                new Enum("B9", INT_B_9),
+                new Enum("BB", INT_BB),
+                new Enum("BC", INT_BC),
+                new Enum("BD", INT_BD),
+                new Enum("BE", INT_BE),
+                new Enum("BF", INT_BF),
+                new Enum("BG", INT_BG),
+                new Enum("BH", INT_BH),
+                new Enum("BI", INT_BI),
+                new Enum("BJ", INT_BJ),
+                new Enum("BK", INT_BK),
+                new Enum("BL", INT_BL),
+                new Enum("BM", INT_BM),
+                new Enum("BN", INT_BN),
+                new Enum("BO", INT_BO),
+                new Enum("BP", INT_BP),
+                new Enum("BQ", INT_BQ),
+                new Enum("BR", INT_BR),
+                new Enum("BS", INT_BS),
+                new Enum("BT", INT_BT),
+                new Enum("C1", INT_C_1),
+                new Enum("C2", INT_C_2),
+                new Enum("C3", INT_C_3),
+                new Enum("C4", INT_C_4),
+                new Enum("C5", INT_C_5),
+                new Enum("C6", INT_C_6),
+                new Enum("C7", INT_C_7),
+                new Enum("C8", INT_C_8),
+                new Enum("C9", INT_C_9),
+                new Enum("CA", INT_CA),
+                new Enum("CB", INT_CB),
+                new Enum("CC", INT_CC),
+                new Enum("D1", INT_D_1),
+                new Enum("D2", INT_D_2),
+                new Enum("F1", INT_F_1),
+                new Enum("F2", INT_F_2),
+                new Enum("HB", INT_HB),
+                new Enum("NA", INT_NA),
+                new Enum("NS", INT_NS),
+                new Enum("P1", INT_P_1),
+                new Enum("P2", INT_P_2),
+                new Enum("P3", INT_P_3),
+                new Enum("P4", INT_P_4),
+                new Enum("RC", INT_RC),
+                new Enum("S1", INT_S_1),
+                new Enum("T1", INT_T_1),
+                new Enum("T2", INT_T_2),
+                new Enum("T3", INT_T_3),
+                new Enum("T4", INT_T_4),
+                new Enum("T5", INT_T_5),
+                new Enum("T6", INT_T_6),
+                new Enum("T7", INT_T_7),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList1651 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList1651) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList1651 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList1651) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
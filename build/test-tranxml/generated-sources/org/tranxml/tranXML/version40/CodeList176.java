@@ -0,0 +1,319 @@
+/*
+ * XML Type:  CodeList176
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList176
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList176(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList176.
+ */
+public interface CodeList176 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList176.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist17640b3type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum X_0 = Enum.forString("0");
+    static final Enum X_1 = Enum.forString("1");
+    static final Enum X_2 = Enum.forString("2");
+    static final Enum X_3 = Enum.forString("3");
+    static final Enum X_4 = Enum.forString("4");
+    static final Enum X_5 = Enum.forString("5");
+    static final Enum X_6 = Enum.forString("6");
+    static final Enum X_7 = Enum.forString("7");
+    static final Enum X_8 = Enum.forString("8");
+    static final Enum X_9 = Enum.forString("9");
+    static final Enum A = Enum.forString("A");
+    static final Enum B = Enum.forString("B");
+    static final Enum C = Enum.forString("C");
+    static final Enum D = Enum.forString("D");
+    static final Enum E = Enum.forString("E");
+    static final Enum F = Enum.forString("F");
+    static final Enum G = Enum.forString("G");
+    static final Enum H = Enum.forString("H");
+    static final Enum I = Enum.forString("I");
+    static final Enum J = Enum.forString("J");
+    static final Enum K = Enum.forString("K");
+    static final Enum L = Enum.forString("L");
+    static final Enum M = Enum.forString("M");
+    static final Enum N = Enum.forString("N");
+    static final Enum O = Enum.forString("O");
+    static final Enum P = Enum.forString("P");
+    static final Enum Q = Enum.forString("Q");
+    static final Enum R = Enum.forString("R");
+    static final Enum S = Enum.forString("S");
+    static final Enum T = Enum.forString("T");
+    static final Enum U = Enum.forString("U");
+    static final Enum V = Enum.forString("V");
+    static final Enum W = Enum.forString("W");
+    static final Enum X = Enum.forString("X");
+    static final Enum Y = Enum.forString("Y");
+    static final Enum Z = Enum.forString("Z");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CE = Enum.forString("CE");
+    static final Enum ED = Enum.forString("ED");
+    static final Enum EP = Enum.forString("EP");
+    static final Enum LD = Enum.forString("LD");
+    static final Enum LP = Enum.forString("LP");
+    static final Enum RS = Enum.forString("RS");
+    
+    static final int INT_X_0 = Enum.INT_X_0;
+    static final int INT_X_1 = Enum.INT_X_1;
+    static final int INT_X_2 = Enum.INT_X_2;
+    static final int INT_X_3 = Enum.INT_X_3;
+    static final int INT_X_4 = Enum.INT_X_4;
+    static final int INT_X_5 = Enum.INT_X_5;
+    static final int INT_X_6 = Enum.INT_X_6;
+    static final int INT_X_7 = Enum.INT_X_7;
+    static final int INT_X_8 = Enum.INT_X_8;
+    static final int INT_X_9 = Enum.INT_X_9;
+    static final int INT_A = Enum.INT_A;
+    static final int INT_B = Enum.INT_B;
+    static final int INT_C = Enum.INT_C;
+    static final int INT_D = Enum.INT_D;
+    static final int INT_E = Enum.INT_E;
+    static final int INT_F = Enum.INT_F;
+    static final int INT_G = Enum.INT_G;
+    static final int INT_H = Enum.INT_H;
+    static final int INT_I = Enum.INT_I;
+    static final int INT_J = Enum.INT_J;
+    static final int INT_K = Enum.INT_K;
+    static final int INT_L = Enum.INT_L;
+    static final int INT_M = Enum.INT_M;
+    static final int INT_N = Enum.INT_N;
+    static final int INT_O = Enum.INT_O;
+    static final int INT_P = Enum.INT_P;
+    static final int INT_Q = Enum.INT_Q;
+    static final int INT_R = Enum.INT_R;
+    static final int INT_S = Enum.INT_S;
+    static final int INT_T = Enum.INT_T;
+    static final int INT_U = Enum.INT_U;
+    static final int INT_V = Enum.INT_V;
+    static final int INT_W = Enum.INT_W;
+    static final int INT_X = Enum.INT_X;
+    static final int INT_Y = Enum.INT_Y;
+    static final int INT_Z = Enum.INT_Z;
+    static final int INT_CB = Enum.INT_CB;
+    static final int INT_CE = Enum.INT_CE;
+    static final int INT_ED = Enum.INT_ED;
+    static final int INT_EP = Enum.INT_EP;
+    static final int INT_LD = Enum.INT_LD;
+    static final int INT_LP = Enum.INT_LP;
+    static final int INT_RS = Enum.INT_RS;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList176.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_X_0
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_X_0 = 1;
+        static final int INT_X_1 = 2;
+        static final int INT_X_2 = 3;
+        static final int INT_X_3 = 4;
+        static final int INT_X_4 = 5;
+        static final int INT_X_5 = 6;
+        static final int INT_X_6 = 7;
+        static final int INT_X_7 = 8;
+        static final int INT_X_8 = 9;
+        static final int INT_X_9 = 10;
+        static final int INT_A = 11;
+        static final int INT_B = 12;
+        static final int INT_C = 13;
+        static final int INT_D = 14;
+        static final int INT_E = 15;
+        static final int INT_F = 16;
+        static final int INT_G = 17;
+        static final int INT_H = 18;
+        static final int INT_I = 19;
+        static final int INT_J = 20;
+        static final int INT_K = 21;
+        static final int INT_L = 22;
+        static final int INT_M = 23;
+        static final int INT_N = 24;
+        static final int INT_O = 25;
+        static final int INT_P = 26;
+        static final int INT_Q = 27;
+        static final int INT_R = 28;
+        static final int INT_S = 29;
+        static final int INT_T = 30;
+        static final int INT_U = 31;
+        static final int INT_V = 32;
+        static final int INT_W = 33;
+        static final int INT_X = 34;
+        static final int INT_Y = 35;
+        static final int INT_Z = 36;
+        static final int INT_CB = 37;
+        static final int INT_CE = 38;
+        static final int INT_ED = 39;
+        static final int INT_EP = 40;
+        static final int INT_LD = 41;
+        static final int INT_LP = 42;
+        static final int INT_RS = 43;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("0", INT_X_0),
+                new Enum("1", INT_X_1),
+                new Enum("2", INT_X_2),
+                new Enum("3", INT_X_3),
+                new Enum("4", INT_X_4),
+                new Enum("5", INT_X_5),
+                new Enum("6", INT_X_6),
+                new Enum("7", INT_X_7),
+                new Enum("8", INT_X_8),
+                new Enum("9", INT_X_9),
+                new Enum("A", INT_A),
+                new Enum("B", INT_B),
+                new Enum("C", INT_C),
+                new Enum("D", INT_D),
+                new Enum("E", INT_E),
+                new Enum("F", INT_F),
+                new Enum("G", INT_G),
+                new Enum("H", INT_H),
+                new Enum("I", INT_I),
+                new Enum("J", INT_J),
+                new Enum("K", INT_K),
+                new Enum("L", INT_L),
+                new Enum("M", INT_M),
+                new Enum("N", INT_N),
+                new Enum("O", INT_O),
+                new Enum("P", INT_P),
+                new Enum("Q", INT_Q),
+                new Enum("R", INT_R),
+                new Enum("S", INT_S),
+                new Enum("T", INT_T),
+                new Enum("U", INT_U),
+                new Enum("V", INT_V),
+                new Enum("W", INT_W),
+                new Enum("X", INT_X),
+                new Enum("Y", INT_Y),
+                new Enum("Z", INT_Z),
+                new Enum("CB", INT_CB),
+                new Enum("CE", INT_CE),
+                new Enum("ED", INT_ED),
+                new Enum("EP", INT_EP),
+                new Enum("LD", INT_LD),
+                new Enum("LP", INT_LP),
+                new Enum("RS", INT_RS),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList176 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList176) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList176 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList176 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList176 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList176) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
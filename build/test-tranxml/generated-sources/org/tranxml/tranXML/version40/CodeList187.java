@@ -0,0 +1,355 @@
+/*
+ * XML Type:  CodeList187
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList187
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList187(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList187.
+ */
+public interface CodeList187 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList187.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist18718d3type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum A = Enum.forString("A");
+    static final Enum B = Enum.forString("B");
+    static final Enum C = Enum.forString("C");
+    static final Enum D = Enum.forString("D");
+    static final Enum E = Enum.forString("E");
+    static final Enum F = Enum.forString("F");
+    static final Enum G = Enum.forString("G");
+    static final Enum H = Enum.forString("H");
+    static final Enum I = Enum.forString("I");
+    static final Enum J = Enum.forString("J");
+    static final Enum K = Enum.forString("K");
+    static final Enum L = Enum.forString("L");
+    static final Enum M = Enum.forString("M");
+    static final Enum N = Enum.forString("N");
+    static final Enum O = Enum.forString("O");
+    static final Enum P = Enum.forString("P");
+    static final Enum Q = Enum.forString("Q");
+    static final Enum R = Enum.forString("R");
+    static final Enum S = Enum.forString("S");
+    static final Enum T = Enum.forString("T");
+    static final Enum U = Enum.forString("U");
+    static final Enum V = Enum.forString("V");
+    static final Enum W = Enum.forString("W");
+    static final Enum X = Enum.forString("X");
+    static final Enum Y = Enum.forString("Y");
+    static final Enum Z = Enum.forString("Z");
+    static final Enum A_1 = Enum.forString("A1");
+    static final Enum A_2 = Enum.forString("A2");
+    static final Enum A_3 = Enum.forString("A3");
+    static final Enum A_4 = Enum.forString("A4");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CE = Enum.forString("CE");
+    static final Enum DR = Enum.forString("DR");
+    static final Enum FR = Enum.forString("FR");
+    static final Enum LC = Enum.forString("LC");
+    static final Enum ND = Enum.forString("ND");
+    static final Enum NI = Enum.forString("NI");
+    static final Enum NR = Enum.forString("NR");
+    static final Enum NT = Enum.forString("NT");
+    static final Enum PA = Enum.forString("PA");
+    static final Enum RG = Enum.forString("RG");
+    static final Enum RN = Enum.forString("RN");
+    static final Enum RT = Enum.forString("RT");
+    static final Enum SF = Enum.forString("SF");
+    static final Enum SI = Enum.forString("SI");
+    static final Enum SK = Enum.forString("SK");
+    static final Enum SO = Enum.forString("SO");
+    static final Enum WA = Enum.forString("WA");
+    static final Enum WB = Enum.forString("WB");
+    static final Enum WG = Enum.forString("WG");
+    static final Enum WJ = Enum.forString("WJ");
+    static final Enum WX = Enum.forString("WX");
+    
+    static final int INT_A = Enum.INT_A;
+    static final int INT_B = Enum.INT_B;
+    static final int INT_C = Enum.INT_C;
+    static final int INT_D = Enum.INT_D;
+    static final int INT_E = Enum.INT_E;
+    static final int INT_F = Enum.INT_F;
+    static final int INT_G = Enum.INT_G;
+    static final int INT_H = Enum.INT_H;
+    static final int INT_I = Enum.INT_I;
+    static final int INT_J = Enum.INT_J;
+    static final int INT_K = Enum.INT_K;
+    static final int INT_L = Enum.INT_L;
+    static final int INT_M = Enum.INT_M;
+    static final int INT_N = Enum.INT_N;
+    static final int INT_O = Enum.INT_O;
+    static final int INT_P = Enum.INT_P;
+    static final int INT_Q = Enum.INT_Q;
+    static final int INT_R = Enum.INT_R;
+    static final int INT_S = Enum.INT_S;
+    static final int INT_T = Enum.INT_T;
+    static final int INT_U = Enum.INT_U;
+    static final int INT_V = Enum.INT_V;
+    static final int INT_W = Enum.INT_W;
+    static final int INT_X = Enum.INT_X;
+    static final int INT_Y = Enum.INT_Y;
+    static final int INT_Z = Enum.INT_Z;
+    static final int INT_A_1 = Enum.INT_A_1;
+    static final int INT_A_2 = Enum.INT_A_2;
+    static final int INT_A_3 = Enum.INT_A_3;
+    static final int INT_A_4 = Enum.INT_A_4;
+    static final int INT_CD = Enum.INT_CD;
+    static final int INT_CE = Enum.INT_CE;
+    static final int INT_DR = Enum.INT_DR;
+    static final int INT_FR = Enum.INT_FR;
+    static final int INT_LC = Enum.INT_LC;
+    static final int INT_ND = Enum.INT_ND;
+    static final int INT_NI = Enum.INT_NI;
+    static final int INT_NR = Enum.INT_NR;
+    static final int INT_NT = Enum.INT_NT;
+    static final int INT_PA = Enum.INT_PA;
+    static final int INT_RG = Enum.INT_RG;
+    static final int INT_RN = Enum.INT_RN;
+    static final int INT_RT = Enum.INT_RT;
+    static final int INT_SF = Enum.INT_SF;
+    static final int INT_SI = Enum.INT_SI;
+    static final int INT_SK = Enum.INT_SK;
+    static final int INT_SO = Enum.INT_SO;
+    static final int INT_WA = Enum.INT_WA;
+    static final int INT_WB = Enum.INT_WB;
+    static final int INT_WG = Enum.INT_WG;
+    static final int INT_WJ = Enum.INT_WJ;
+    static final int INT_WX = Enum.INT_WX;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList187.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_A
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_A = 1;
+        static final int INT_B = 2;
+        static final int INT_C = 3;
+        static final int INT_D = 4;
+        static final int INT_E = 5;
+        static final int INT_F = 6;
+        static final int INT_G = 7;
+        static final int INT_H = 8;
+        static final int INT_I = 9;
+        static final int INT_J = 10;
+        static final int INT_K = 11;
+        static final int INT_L = 12;
+        static final int INT_M = 13;
+        static final int INT_N = 14;
+        static final int INT_O = 15;
+        static final int INT_P = 16;
+        static final int INT_Q = 17;
+        static final int INT_R = 18;
+        static final int INT_S = 19;
+        static final int INT_T = 20;
+        static final int INT_U = 21;
+        static final int INT_V = 22;
+        static final int INT_W = 23;
+        static final int INT_X = 24;
+        static final int INT_Y = 25;
+        static final int INT_Z = 26;
+        static final int INT_A_1 = 27;
+        static final int INT_A_2 = 28;
+        static final int INT_A_3 = 29;
+        static final int INT_A_4 = 30;
+        static final int INT_CD = 31;
+        static final int INT_CE = 32;
+        static final int INT_DR = 33;
+        static final int INT_FR = 34;
+        static final int INT_LC = 35;
+        static final int INT_ND = 36;
+        static final int INT_NI = 37;
+        static final int INT_NR = 38;
+        static final int INT_NT = 39;
+        static final int INT_PA = 40;
+        static final int INT_RG = 41;
+        static final int INT_RN = 42;
+        static final int INT_RT = 43;
+        static final int INT_SF = 44;
+        static final int INT_SI = 45;
+        static final int INT_SK = 46;
+        static final int INT_SO = 47;
+        static final int INT_WA = 48;
+        static final int INT_WB = 49;
+        static final int INT_WG = 50;
+        static final int INT_WJ = 51;
+        static final int INT_WX = 52;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("A", INT_A),
+                new Enum("B", INT_B),
+                new Enum("C", INT_C),
+                new Enum("D", INT_D),
+                new Enum("E", INT_E),
+                new Enum("F", INT_F),
+                new Enum("G", INT_G),
+                new Enum("H", INT_H),
+                new Enum("I", INT_I),
+                new Enum("J", INT_J),
+                new Enum("K", INT_K),
+                new Enum("L", INT_L),
+                new Enum("M", INT_M),
+                new Enum("N", INT_N),
+                new Enum("O", INT_O),
+                new Enum("P", INT_P),
+                new Enum("Q", INT_Q),
+                new Enum("R", INT_R),
+                new Enum("S", INT_S),
+                new Enum("T", INT_T),
+                new Enum("U", INT_U),
+                new Enum("V", INT_V),
+                new Enum("W", INT_W),
+                new Enum("X", INT_X),
+                new Enum("Y", INT_Y),
+                new Enum("Z", INT_Z),
+                new Enum("A1", INT_A_1),
+                new Enum("A2", INT_A_2),
+                new Enum("A3", INT_A_3),
+                new Enum("A4", INT_A_4),
+                new Enum("CD", INT_CD),
+                new Enum("CE", INT_CE),
+                new Enum("DR", INT_DR),
+                new Enum("FR", INT_FR),
+                new Enum("LC", INT_LC),
+                new Enum("ND", INT_ND),
+                new Enum("NI", INT_NI),
+                new Enum("NR", INT_NR),
+                new Enum("NT", INT_NT),
+                new Enum("PA", INT_PA),
+                new Enum("RG", INT_RG),
+                new Enum("RN", INT_RN),
+                new Enum("RT", INT_RT),
+                new Enum("SF", INT_SF),
+                new Enum("SI", INT_SI),
+                new Enum("SK", INT_SK),
+                new Enum("SO", INT_SO),
+                new Enum("WA", INT_WA),
+                new Enum("WB", INT_WB),
+                new Enum("WG", INT_WG),
+                new Enum("WJ", INT_WJ),
+                new Enum("WX", INT_WX),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList187 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList187) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList187 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList187 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList187 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList187) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
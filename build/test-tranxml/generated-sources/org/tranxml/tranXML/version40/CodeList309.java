@@ -0,0 +1,851 @@
+/*
+ * XML Type:  CodeList309
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList309
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList309(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList309.
+ */
+public interface CodeList309 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList309.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist309305ftype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum A = Enum.forString("A");
+    static final Enum B = Enum.forString("B");
+    static final Enum C = Enum.forString("C");
+    static final Enum D = Enum.forString("D");
+    static final Enum E = Enum.forString("E");
+    static final Enum F = Enum.forString("F");
+    static final Enum G = Enum.forString("G");
+    static final Enum H = Enum.forString("H");
+    static final Enum I = Enum.forString("I");
+    static final Enum J = Enum.forString("J");
+    static final Enum K = Enum.forString("K");
+    static final Enum L = Enum.forString("L");
+    static final Enum M = Enum.forString("M");
+    static final Enum O = Enum.forString("O");
+    static final Enum P = Enum.forString("P");
+    static final Enum Q = Enum.forString("Q");
+    static final Enum W = Enum.forString("W");
+    static final Enum X_10 = Enum.forString("10");
+    static final Enum X_11 = Enum.forString("11");
+    static final Enum X_12 = Enum.forString("12");
+    static final Enum X_13 = Enum.forString("13");
+    static final Enum X_14 = Enum.forString("14");
+    static final Enum X_18 = Enum.forString("18");
+    static final Enum X_19 = Enum.forString("19");
+    static final Enum X_20 = Enum.forString("20");
+    static final Enum X_21 = Enum.forString("21");
+    static final Enum X_22 = Enum.forString("22");
+    static final Enum X_27 = Enum.forString("27");
+    static final Enum X_28 = Enum.forString("28");
+    static final Enum X_29 = Enum.forString("29");
+    static final Enum X_30 = Enum.forString("30");
+    static final Enum X_31 = Enum.forString("31");
+    static final Enum X_32 = Enum.forString("32");
+    static final Enum X_33 = Enum.forString("33");
+    static final Enum X_34 = Enum.forString("34");
+    static final Enum X_35 = Enum.forString("35");
+    static final Enum X_36 = Enum.forString("36");
+    static final Enum X_38 = Enum.forString("38");
+    static final Enum X_39 = Enum.forString("39");
+    static final Enum X_40 = Enum.forString("40");
+    static final Enum X_41 = Enum.forString("41");
+    static final Enum X_42 = Enum.forString("42");
+    static final Enum X_43 = Enum.forString("43");
+    static final Enum X_44 = Enum.forString("44");
+    static final Enum X_45 = Enum.forString("45");
+    static final Enum X_46 = Enum.forString("46");
+    static final Enum X_47 = Enum.forString("47");
+    static final Enum X_48 = Enum.forString("48");
+    static final Enum X_49 = Enum.forString("49");
+    static final Enum X_50 = Enum.forString("50");
+    static final Enum X_52 = Enum.forString("52");
+    static final Enum X_53 = Enum.forString("53");
+    static final Enum X_54 = Enum.forString("54");
+    static final Enum X_55 = Enum.forString("55");
+    static final Enum X_57 = Enum.forString("57");
+    static final Enum X_58 = Enum.forString("58");
+    static final Enum X_59 = Enum.forString("59");
+    static final Enum X_60 = Enum.forString("60");
+    static final Enum X_93 = Enum.forString("93");
+    static final Enum X_94 = Enum.forString("94");
+    static final Enum A_1 = Enum.forString("A1");
+    static final Enum AA = Enum.forString("AA");
+    static final Enum AC = Enum.forString("AC");
+    static final Enum AP = Enum.forString("AP");
+    static final Enum AR = Enum.forString("AR");
+    static final Enum B_1 = Enum.forString("B1");
+    static final Enum BE = Enum.forString("BE");
+    static final Enum BL = Enum.forString("BL");
+    static final Enum BS = Enum.forString("BS");
+    static final Enum C_2 = Enum.forString("C2");
+    static final Enum CA = Enum.forString("CA");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CC = Enum.forString("CC");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CE = Enum.forString("CE");
+    static final Enum CI = Enum.forString("CI");
+    static final Enum CL = Enum.forString("CL");
+    static final Enum CO = Enum.forString("CO");
+    static final Enum CR = Enum.forString("CR");
+    static final Enum CS = Enum.forString("CS");
+    static final Enum CY = Enum.forString("CY");
+    static final Enum DC = Enum.forString("DC");
+    static final Enum DE = Enum.forString("DE");
+    static final Enum DL = Enum.forString("DL");
+    static final Enum DO = Enum.forString("DO");
+    static final Enum DP = Enum.forString("DP");
+    static final Enum DR = Enum.forString("DR");
+    static final Enum DT = Enum.forString("DT");
+    static final Enum EA = Enum.forString("EA");
+    static final Enum EB = Enum.forString("EB");
+    static final Enum EL = Enum.forString("EL");
+    static final Enum FA = Enum.forString("FA");
+    static final Enum FE = Enum.forString("FE");
+    static final Enum FF = Enum.forString("FF");
+    static final Enum FI = Enum.forString("FI");
+    static final Enum FR = Enum.forString("FR");
+    static final Enum FS = Enum.forString("FS");
+    static final Enum FT = Enum.forString("FT");
+    static final Enum FV = Enum.forString("FV");
+    static final Enum GL = Enum.forString("GL");
+    static final Enum IA = Enum.forString("IA");
+    static final Enum IB = Enum.forString("IB");
+    static final Enum IM = Enum.forString("IM");
+    static final Enum IP = Enum.forString("IP");
+    static final Enum IS = Enum.forString("IS");
+    static final Enum IT = Enum.forString("IT");
+    static final Enum KE = Enum.forString("KE");
+    static final Enum KL = Enum.forString("KL");
+    static final Enum KP = Enum.forString("KP");
+    static final Enum LO = Enum.forString("LO");
+    static final Enum MI = Enum.forString("MI");
+    static final Enum MS = Enum.forString("MS");
+    static final Enum MZ = Enum.forString("MZ");
+    static final Enum NS = Enum.forString("NS");
+    static final Enum OA = Enum.forString("OA");
+    static final Enum OF = Enum.forString("OF");
+    static final Enum OL = Enum.forString("OL");
+    static final Enum OP = Enum.forString("OP");
+    static final Enum OR = Enum.forString("OR");
+    static final Enum OV = Enum.forString("OV");
+    static final Enum PA = Enum.forString("PA");
+    static final Enum PB = Enum.forString("PB");
+    static final Enum PC = Enum.forString("PC");
+    static final Enum PD = Enum.forString("PD");
+    static final Enum PE = Enum.forString("PE");
+    static final Enum PF = Enum.forString("PF");
+    static final Enum PG = Enum.forString("PG");
+    static final Enum PH = Enum.forString("PH");
+    static final Enum PL = Enum.forString("PL");
+    static final Enum PO = Enum.forString("PO");
+    static final Enum PP = Enum.forString("PP");
+    static final Enum PQ = Enum.forString("PQ");
+    static final Enum PR = Enum.forString("PR");
+    static final Enum PS = Enum.forString("PS");
+    static final Enum PT = Enum.forString("PT");
+    static final Enum PU = Enum.forString("PU");
+    static final Enum RA = Enum.forString("RA");
+    static final Enum RC = Enum.forString("RC");
+    static final Enum RE = Enum.forString("RE");
+    static final Enum RG = Enum.forString("RG");
+    static final Enum RJ = Enum.forString("RJ");
+    static final Enum RL = Enum.forString("RL");
+    static final Enum RS = Enum.forString("RS");
+    static final Enum RT = Enum.forString("RT");
+    static final Enum SA = Enum.forString("SA");
+    static final Enum SB = Enum.forString("SB");
+    static final Enum SC = Enum.forString("SC");
+    static final Enum SD = Enum.forString("SD");
+    static final Enum SE = Enum.forString("SE");
+    static final Enum SG = Enum.forString("SG");
+    static final Enum SH = Enum.forString("SH");
+    static final Enum SL = Enum.forString("SL");
+    static final Enum SN = Enum.forString("SN");
+    static final Enum SP = Enum.forString("SP");
+    static final Enum SS = Enum.forString("SS");
+    static final Enum ST = Enum.forString("ST");
+    static final Enum SW = Enum.forString("SW");
+    static final Enum TA = Enum.forString("TA");
+    static final Enum TC = Enum.forString("TC");
+    static final Enum TL = Enum.forString("TL");
+    static final Enum TM = Enum.forString("TM");
+    static final Enum TN = Enum.forString("TN");
+    static final Enum TP = Enum.forString("TP");
+    static final Enum TR = Enum.forString("TR");
+    static final Enum TX = Enum.forString("TX");
+    static final Enum UN = Enum.forString("UN");
+    static final Enum UR = Enum.forString("UR");
+    static final Enum UT = Enum.forString("UT");
+    static final Enum VA = Enum.forString("VA");
+    static final Enum VI = Enum.forString("VI");
+    static final Enum VS = Enum.forString("VS");
+    static final Enum WF = Enum.forString("WF");
+    static final Enum WH = Enum.forString("WH");
+    static final Enum WI = Enum.forString("WI");
+    static final Enum ZN = Enum.forString("ZN");
+    static final Enum ZZ = Enum.forString("ZZ");
+    
+    static final int INT_A = Enum.INT_A;
+    static final int INT_B = Enum.INT_B;
+    static final int INT_C = Enum.INT_C;
+    static final int INT_D = Enum.INT_D;
+    static final int INT_E = Enum.INT_E;
+    static final int INT_F = Enum.INT_F;
+    static final int INT_G = Enum.INT_G;
+    static final int INT_H = Enum.INT_H;
+    static final int INT_I = Enum.INT_I;
+    static final int INT_J = Enum.INT_J;
+    static final int INT_K = Enum.INT_K;
+    static final int INT_L = Enum.INT_L;
+    static final int INT_M = Enum.INT_M;
+    static final int INT_O = Enum.INT_O;
+    static final int INT_P = Enum.INT_P;
+    static final int INT_Q = Enum.INT_Q;
+    static final int INT_W = Enum.INT_W;
+    static final int INT_X_10 = Enum.INT_X_10;
+    static final int INT_X_11 = Enum.INT_X_11;
+    static final int INT_X_12 = Enum.INT_X_12;
+    static final int INT_X_13 = Enum.INT_X_13;
+    static final int INT_X_14 = Enum.INT_X_14;
+    static final int INT_X_18 = Enum.INT_X_18;
+    static final int INT_X_19 = Enum.INT_X_19;
+    static final int INT_X_20 = Enum.INT_X_20;
+    static final int INT_X_21 = Enum.INT_X_21;
+    static final int INT_X_22 = Enum.INT_X_22;
+    static final int INT_X_27 = Enum.INT_X_27;
+    static final int INT_X_28 = Enum.INT_X_28;
+    static final int INT_X_29 = Enum.INT_X_29;
+    static final int INT_X_30 = Enum.INT_X_30;
+    static final int INT_X_31 = Enum.INT_X_31;
+    static final int INT_X_32 = Enum.INT_X_32;
+    static final int INT_X_33 = Enum.INT_X_33;
+    static final int INT_X_34 = Enum.INT_X_34;
+    static final int INT_X_35 = Enum.INT_X_35;
+    static final int INT_X_36 = Enum.INT_X_36;
+    static final int INT_X_38 = Enum.INT_X_38;
+    static final int INT_X_39 = Enum.INT_X_39;
+    static final int INT_X_40 = Enum.INT_X_40;
+    static final int INT_X_41 = Enum.INT_X_41;
+    static final int INT_X_42 = Enum.INT_X_42;
+    static final int INT_X_43 = Enum.INT_X_43;
+    static final int INT_X_44 = Enum.INT_X_44;
+    static final int INT_X_45 = Enum.INT_X_45;
+    static final int INT_X_46 = Enum.INT_X_46;
+    static final int INT_X_47 = Enum.INT_X_47;
+    static final int INT_X_48 = Enum.INT_X_48;
+    static final int INT_X_49 = Enum.INT_X_49;
+    static final int INT_X_50 = Enum.INT_X_50;
+    static final int INT_X_52 = Enum.INT_X_52;
+    static final int INT_X_53 = Enum.INT_X_53;
+    static final int INT_X_54 = Enum.INT_X_54;
+    static final int INT_X_55 = Enum.INT_X_55;
+    static final int INT_X_57 = Enum.INT_X_57;
+    static final int INT_X_58 = Enum.INT_X_58;
+    static final int INT_X_59 = Enum.INT_X_59;
+    static final int INT_X_60 = Enum.INT_X_60;
+    static final int INT_X_93 = Enum.INT_X_93;
+    static final int INT_X_94 = Enum.INT_X_94;
+    static final int INT_A_1 = Enum.INT_A_1;
+    static final int INT_AA = Enum.INT_AA;
+    static final int INT_AC = Enum.INT_AC;
+    static final int INT_AP = Enum.INT_AP;
+    static final int INT_AR = Enum.INT_AR;
+    static final int INT_B_1 = Enum.INT_B_1;
+    static final int INT_BE = Enum.INT_BE;
+    static final int INT_BL = Enum.INT_BL;
+    static final int INT_BS = Enum.INT_BS;
+    static final int INT_C_2 = Enum.INT_C_2;
+    static final int INT_CA = Enum.INT_CA;
+    static final int INT_CB = Enum.INT_CB;
+    static final int INT_CC = Enum.INT_CC;
+    static final int INT_CD = Enum.INT_CD;
+    static final int INT_CE = Enum.INT_CE;
+    static final int INT_CI = Enum.INT_CI;
+    static final int INT_CL = Enum.INT_CL;
+    static final int INT_CO = Enum.INT_CO;
+    static final int INT_CR = Enum.INT_CR;
+    static final int INT_CS = Enum.INT_CS;
+    static final int INT_CY = Enum.INT_CY;
+    static final int INT_DC = Enum.INT_DC;
+    static final int INT_DE = Enum.INT_DE;
+    static final int INT_DL = Enum.INT_DL;
+    static final int INT_DO = Enum.INT_DO;
+    static final int INT_DP = Enum.INT_DP;
+    static final int INT_DR = Enum.INT_DR;
+    static final int INT_DT = Enum.INT_DT;
+    static final int INT_EA = Enum.INT_EA;
+    static final int INT_EB = Enum.INT_EB;
+    static final int INT_EL = Enum.INT_EL;
+    static final int INT_FA = Enum.INT_FA;
+    static final int INT_FE = Enum.INT_FE;
+    static final int INT_FF = Enum.INT_FF;
+    static final int INT_FI = Enum.INT_FI;
+    static final int INT_FR = Enum.INT_FR;
+    static final int INT_FS = Enum.INT_FS;
+    static final int INT_FT = Enum.INT_FT;
+    static final int INT_FV = Enum.INT_FV;
+    static final int INT_GL = Enum.INT_GL;
+    static final int INT_IA = Enum.INT_IA;
+    static final int INT_IB = Enum.INT_IB;
+    static final int INT_IM = Enum.INT_IM;
+    static final int INT_IP = Enum.INT_IP;
+    static final int INT_IS = Enum.INT_IS;
+    static final int INT_IT = Enum.INT_IT;
+    static final int INT_KE = Enum.INT_KE;
+    static final int INT_KL = Enum.INT_KL;
+    static final int INT_KP = Enum.INT_KP;
+    static final int INT_LO = Enum.INT_LO;
+    static final int INT_MI = Enum.INT_MI;
+    static final int INT_MS = Enum.INT_MS;
+    static final int INT_MZ = Enum.INT_MZ;
+    static final int INT_NS = Enum.INT_NS;
+    static final int INT_OA = Enum.INT_OA;
+    static final int INT_OF = Enum.INT_OF;
+    static final int INT_OL = Enum.INT_OL;
+    static final int INT_OP = Enum.INT_OP;
+    static final int INT_OR = Enum.INT_OR;
+    static final int INT_OV = Enum.INT_OV;
+    static final int INT_PA = Enum.INT_PA;
+    static final int INT_PB = Enum.INT_PB;
+    static final int INT_PC = Enum.INT_PC;
+    static final int INT_PD = Enum.INT_PD;
+    static final int INT_PE = Enum.INT_PE;
+    static final int INT_PF = Enum.INT_PF;
+    static final int INT_PG = Enum.INT_PG;
+    static final int INT_PH = Enum.INT_PH;
+    static final int INT_PL = Enum.INT_PL;
+    static final int INT_PO = Enum.INT_PO;
+    static final int INT_PP = Enum.INT_PP;
+    static final int INT_PQ = Enum.INT_PQ;
+    static final int INT_PR = Enum.INT_PR;
+    static final int INT_PS = Enum.INT_PS;
+    static final int INT_PT = Enum.INT_PT;
+    static final int INT_PU = Enum.INT_PU;
+    static final int INT_RA = Enum.INT_RA;
+    static final int INT_RC = Enum.INT_RC;
+    static final int INT_RE = Enum.INT_RE;
+    static final int INT_RG = Enum.INT_RG;
+    static final int INT_RJ = Enum.INT_RJ;
+    static final int INT_RL = Enum.INT_RL;
+    static final int INT_RS = Enum.INT_RS;
+    static final int INT_RT = Enum.INT_RT;
+    static final int INT_SA = Enum.INT_SA;
+    static final int INT_SB = Enum.INT_SB;
+    static final int INT_SC = Enum.INT_SC;
+    static final int INT_SD = Enum.INT_SD;
+    static final int INT_SE = Enum.INT_SE;
+    static final int INT_SG = Enum.INT_SG;
+    static final int INT_SH = Enum.INT_SH;
+    static final int INT_SL = Enum.INT_SL;
+    static final int INT_SN = Enum.INT_SN;
+    static final int INT_SP = Enum.INT_SP;
+    static final int INT_SS = Enum.INT_SS;
+    static final int INT_ST = Enum.INT_ST;
+    static final int INT_SW = Enum.INT_SW;
+    static final int INT_TA = Enum.INT_TA;
+    static final int INT_TC = Enum.INT_TC;
+    static final int INT_TL = Enum.INT_TL;
+    static final int INT_TM = Enum.INT_TM;
+    static final int INT_TN = Enum.INT_TN;
+    static final int INT_TP = Enum.INT_TP;
+    static final int INT_TR = Enum.INT_TR;
+    static final int INT_TX = Enum.INT_TX;
+    static final int INT_UN = Enum.INT_UN;
+    static final int INT_UR = Enum.INT_UR;
+    static final int INT_UT = Enum.INT_UT;
+    static final int INT_VA = Enum.INT_VA;
+    static final int INT_VI = Enum.INT_VI;
+    static final int INT_VS = Enum.INT_VS;
+    static final int INT_WF = Enum.INT_WF;
+    static final int INT_WH = Enum.INT_WH;
+    static final int INT_WI = Enum.INT_WI;
+    static final int INT_ZN = Enum.INT_ZN;
+    static final int INT_ZZ = Enum.INT_ZZ;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList309.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_A
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_A = 1;
+        static final int INT_B = 2;
+        static final int INT_C = 3;
+        static final int INT_D = 4;
+        static final int INT_E = 5;
+        static final int INT_F = 6;
+        static final int INT_G = 7;
+        static final int INT_H = 8;
+        static final int INT_I = 9;
+        static final int INT_J = 10;
+        static final int INT_K = 11;
+        static final int INT_L = 12;
+        static final int INT_M = 13;
+        static final int INT_O = 14;
+        static final int INT_P = 15;
+        static final int INT_Q = 16;
+        static final int INT_W = 17;
+        static final int INT_X_10 = 18;
+        static final int INT_X_11 = 19;
+        static final int INT_X_12 = 20;
+        static final int INT_X_13 = 21;
+        static final int INT_X_14 = 22;
+        static final int INT_X_18 = 23;
+        static final int INT_X_19 = 24;
+        static final int INT_X_20 = 25;
+        static final int INT_X_21 = 26;
+        static final int INT_X_22 = 27;
+        static final int INT_X_27 = 28;
+        static final int INT_X_28 = 29;
+        static final int INT_X_29 = 30;
+        static final int INT_X_30 = 31;
+        static final int INT_X_31 = 32;
+        static final int INT_X_32 = 33;
+        static final int INT_X_33 = 34;
+        static final int INT_X_34 = 35;
+        static final int INT_X_35 = 36;
+        static final int INT_X_36 = 37;
+        static final int INT_X_38 = 38;
+        static final int INT_X_39 = 39;
+        static final int INT_X_40 = 40;
+        static final int INT_X_41 = 41;
+        static final int INT_X_42 = 42;
+        static final int INT_X_43 = 43;
+        static final int INT_X_44 = 44;
+        static final int INT_X_45 = 45;
+        static final int INT_X_46 = 46;
+        static final int INT_X_47 = 47;
+        static final int INT_X_48 = 48;
+        static final int INT_X_49 = 49;
+        static final int INT_X_50 = 50;
+        static final int INT_X_52 = 51;
+        static final int INT_X_53 = 52;
+        static final int INT_X_54 = 53;
+        static final int INT_X_55 = 54;
+        static final int INT_X_57 = 55;
+        static final int INT_X_58 = 56;
+        static final int INT_X_59 = 57;
+        static final int INT_X_60 = 58;
+        static final int INT_X_93 = 59;
+        static final int INT_X_94 = 60;
+        static final int INT_A_1 = 61;
+        static final int INT_AA = 62;
+        static final int INT_AC = 63;
+        static final int INT_AP = 64;
+        static final int INT_AR = 65;
+        static final int INT_B_1 = 66;
+        static final int INT_BE = 67;
+        static final int INT_BL = 68;
+        static final int INT_BS = 69;
+        static final int INT_C_2 = 70;
+        static final int INT_CA = 71;
+        static final int INT_CB = 72;
+        static final int INT_CC = 73;
+        static final int INT_CD = 74;
+        static final int INT_CE = 75;
+        static final int INT_CI = 76;
+        static final int INT_CL = 77;
+        static final int INT_CO = 78;
+        static final int INT_CR = 79;
+        static final int INT_CS = 80;
+        static final int INT_CY = 81;
+        static final int INT_DC = 82;
+        static final int INT_DE = 83;
+        static final int INT_DL = 84;
+        static final int INT_DO = 85;
+        static final int INT_DP = 86;
+        static final int INT_DR = 87;
+        static final int INT_DT = 88;
+        static final int INT_EA = 89;
+        static final int INT_EB = 90;
+        static final int INT_EL = 91;
+        static final int INT_FA = 92;
+        static final int INT_FE = 93;
+        static final int INT_FF = 94;
+        static final int INT_FI = 95;
+        static final int INT_FR = 96;
+        static final int INT_FS = 97;
+        static final int INT_FT = 98;
+        static final int INT_FV = 99;
+        static final int INT_GL = 100;
+        static final int INT_IA = 101;
+        static final int INT_IB = 102;
+        static final int INT_IM = 103;
+        static final int INT_IP = 104;
+        static final int INT_IS = 105;
+        static final int INT_IT = 106;
+        static final int INT_KE = 107;
+        static final int INT_KL = 108;
+        static final int INT_KP = 109;
+        static final int INT_LO = 110;
+        static final int INT_MI = 111;
+        static final int INT_MS = 112;
+        static final int INT_MZ = 113;
+        static final int INT_NS = 114;
+        static final int INT_OA = 115;
+        static final int INT_OF = 116;
+        static final int INT_OL = 117;
+        static final int INT_OP = 118;
+        static final int INT_OR = 119;
+        static final int INT_OV = 120;
+        static final int INT_PA = 121;
+        static final int INT_PB = 122;
+        static final int INT_PC = 123;
+        static final int INT_PD = 124;
+        static final int INT_PE = 125;
+        static final int INT_PF = 126;
+        static final int INT_PG = 127;
+        static final int INT_PH = 128;
+        static final int INT_PL = 129;
+        static final int INT_PO = 130;
+        static final int INT_PP = 131;
+        static final int INT_PQ = 132;
+        static final int INT_PR = 133;
+        static final int INT_PS = 134;
+        static final int INT_PT = 135;
+        static final int INT_PU = 136;
+        static final int INT_RA = 137;
+        static final int INT_RC = 138;
+        static final int INT_RE = 139;
+        static final int INT_RG = 140;
+        static final int INT_RJ = 141;
+        static final int INT_RL = 142;
+        static final int INT_RS = 143;
+        static final int INT_RT = 144;
+        static final int INT_SA = 145;
+        static final int INT_SB = 146;
+        static final int INT_SC = 147;
+        static final int INT_SD = 148;
+        static final int INT_SE = 149;
+        static final int INT_SG = 150;
+        static final int INT_SH = 151;
+        static final int INT_SL = 152;
+        static final int INT_SN = 153;
+        static final int INT_SP = 154;
+        static final int INT_SS = 155;
+        static final int INT_ST = 156;
+        static final int INT_SW = 157;
+        static final int INT_TA = 158;
+        static final int INT_TC = 159;
+        static final int INT_TL = 160;
+        static final int INT_TM = 161;
+        static final int INT_TN = 162;
+        static final int INT_TP = 163;
+        static final int INT_TR = 164;
+        static final int INT_TX = 165;
+        static final int INT_UN = 166;
+        static final int INT_UR = 167;
+        static final int INT_UT = 168;
+        static final int INT_VA = 169;
+        static final int INT_VI = 170;
+        static final int INT_VS = 171;
+        static final int INT_WF = 172;
+        static final int INT_WH = 173;
+        static final int INT_WI = 174;
+        static final int INT_ZN = 175;
+        static final int INT_ZZ = 176;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("A", INT_A),
+                new Enum("B", INT_B),
+                new Enum("C", INT_C),
+                new Enum("D", INT_D),
+                new Enum("E", INT_E),
+                new Enum("F", INT_F),
+                new Enum("G", INT_G),
+                new Enum("H", INT_H),
+                new Enum("I", INT_I),
+                new Enum("J", INT_J),
+                new Enum("K", INT_K),
+                new Enum("L", INT_L),
+                new Enum("M", INT_M),
+                new Enum("O", INT_O),
+                new Enum("P", INT_P),
+                new Enum("Q", INT_Q),
+                new Enum("W", INT_W),
+                new Enum("10", INT_X_10),
+                new Enum("11", INT_X_11),
+                new Enum("12", INT_X_12),
+                new Enum("13", INT_X_13),
+                new Enum("14", INT_X_14),
+                new Enum("18", INT_X_18),
+                new Enum("19", INT_X_19),
+                new Enum("20", INT_X_20),
+                new Enum("21", INT_X_21),
+                new Enum("22", INT_X_22),
+                new Enum("27", INT_X_27),
+                new Enum("28", INT_X_28),
+                new Enum("29", INT_X_29),
+                new Enum("30", INT_X_30),
+                new Enum("31", INT_X_31),
+                new Enum("32", INT_X_32),
+                new Enum("33", INT_X_33),
+                new Enum("34", INT_X_34),
+                new Enum("35", INT_X_35),
+                new Enum("36", INT_X_36),
+                new Enum("38", INT_X_38),
+                new Enum("39", INT_X_39),
+                new Enum("40", INT_X_40),
+                new Enum("41", INT_X_41),
+                new Enum("42", INT_X_42),
+                new Enum("43", INT_X_43),
+                new Enum("44", INT_X_44),
+                new Enum("45", INT_X_45),
+                new Enum("46", INT_X_46),
+                new Enum("47", INT_X_47),
+                new Enum("48", INT_X_48),
+                new Enum("49", INT_X_49),
+                new Enum("50", INT_X_50),
+                new Enum("52", INT_X_52),
+                new Enum("53", INT_X_53),
+                new Enum("54", INT_X_54),
+                new Enum("55", INT_X_55),
+                new Enum("57", INT_X_57),
+                new Enum("58", INT_X_58),
+                new Enum("59", INT_X_59),
+                new Enum("60", INT_X_60),
+                new Enum("93", INT_X_93),
+                new Enum("94", INT_X_94),
+                new Enum("A1", INT_A_1),
+                new Enum("AA", INT_AA),
+                new Enum("AC", INT_AC),
+                new Enum("AP", INT_AP),
+                new Enum("AR", INT_AR),
+                new Enum("B1", INT_B_1),
+                new Enum("BE", INT_BE),
+                new Enum("BL", INT_BL),
+                new Enum("BS", INT_BS),
+                new Enum("C2", INT_C_2),
+                new Enum("CA", INT_CA),
+                new Enum("CB", INT_CB),
+                new Enum("CC", INT_CC),
+                new Enum("CD", INT_CD),
+                new Enum("CE", INT_CE),
+                new Enum("CI", INT_CI),
+                new Enum("CL", INT_CL),
+                new Enum("CO", INT_CO),
+                new Enum("CR", INT_CR),
+                new Enum("CS", INT_CS),
+                new Enum("CY", INT_CY),
+                new Enum("DC", INT_DC),
+                new Enum("DE", INT_DE),
+                new Enum("DL", INT_DL),
+                new Enum("DO", INT_DO),
+                new Enum("DP", INT_DP),
+                new Enum("DR", INT_DR),
+                new Enum("DT", INT_DT),
+                new Enum("EA", INT_EA),
+                new Enum("EB", INT_EB),
+                new Enum("EL", INT_EL),
+                new Enum("FA", INT_FA),
+                new Enum("FE", INT_FE),
+                new Enum("FF", INT_FF),
+                new Enum("FI", INT_FI),
+                new Enum("FR", INT_FR),
+                new Enum("FS", INT_FS),
+                new Enum("FT", INT_FT),
+                new Enum("FV", INT_FV),
+                new Enum("GL", INT_GL),
+                new Enum("IA", INT_IA),
+                new Enum("IB", INT_IB),
+                new Enum("IM", INT_IM),
+                new Enum("IP", INT_IP),
+                new Enum("IS", INT_IS),
+                new Enum("IT", INT_IT),
+                new Enum("KE", INT_KE),
+                new Enum("KL", INT_KL),
+                new Enum("KP", INT_KP),
+                new Enum("LO", INT_LO),
+                new Enum("MI", INT_MI),
+                new Enum("MS", INT_MS),
+                new Enum("MZ", INT_MZ),
+                new Enum("NS", INT_NS),
+                new Enum("OA", INT_OA),
+                new Enum("OF", INT_OF),
+                new Enum("OL", INT_OL),
+                new Enum("OP", INT_OP),
+                new Enum("OR", INT_OR),
+                new Enum("OV", INT_OV),
+                new Enum("PA", INT_PA),
+                new Enum("PB", INT_PB),
+                new Enum("PC", INT_PC),
+                new Enum("PD", INT_PD),
+                new Enum("PE", INT_PE),
+                new Enum("PF", INT_PF),
+                new Enum("PG", INT_PG),
+                new Enum("PH", INT_PH),
+                new Enum("PL", INT_PL),
+                new Enum("PO", INT_PO),
+                new Enum("PP", INT_PP),
+                new Enum("PQ", INT_PQ),
+                new Enum("PR", INT_PR),
+                new Enum("PS", INT_PS),
+                new Enum("PT", INT_PT),
+                new Enum("PU", INT_PU),
+                new Enum("RA", INT_RA),
+                new Enum("RC", INT_RC),
+                new Enum("RE", INT_RE),
+                new Enum("RG", INT_RG),
+                new Enum("RJ", INT_RJ),
+                new Enum("RL", INT_RL),
+                new Enum("RS", INT_RS),
+                new Enum("RT", INT_RT),
+                new Enum("SA", INT_SA),
+                new Enum("SB", INT_SB),
+                new Enum("SC", INT_SC),
+                new Enum("SD", INT_SD),
+                new Enum("SE", INT_SE),
+                new Enum("SG", INT_SG),
+                new Enum("SH", INT_SH),
+                new Enum("SL", INT_SL),
+                new Enum("SN", INT_SN),
+                new Enum("SP", INT_SP),
+                new Enum("SS", INT_SS),
+                new Enum("ST", INT_ST),
+                new Enum("SW", INT_SW),
+                new Enum("TA", INT_TA),
+                new Enum("TC", INT_TC),
+                new Enum("TL", INT_TL),
+                new Enum("TM", INT_TM),
+                new Enum("TN", INT_TN),
+                new Enum("TP", INT_TP),
+                new Enum("TR", INT_TR),
+                new Enum("TX", INT_TX),
+                new Enum("UN", INT_UN),
+                new Enum("UR", INT_UR),
+                new Enum("UT", INT_UT),
+                new Enum("VA", INT_VA),
+                new Enum("VI", INT_VI),
+                new Enum("VS", INT_VS),
+                new Enum("WF", INT_WF),
+                new Enum("WH", INT_WH),
+                new Enum("WI", INT_WI),
+                new Enum("ZN", INT_ZN),
+                new Enum("ZZ", INT_ZZ),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList309 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList309) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList309 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList309 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList309 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList309) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
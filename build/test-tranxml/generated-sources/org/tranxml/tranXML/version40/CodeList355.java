@@ -0,0 +1,3359 @@
+/*
+ * XML Type:  CodeList355
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList355
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList355(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList355.
+ */
+public interface CodeList355 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList355.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist3558436type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum X_01 = Enum.forString("01");
+    static final Enum X_02 = Enum.forString("02");
+    static final Enum X_03 = Enum.forString("03");
+    static final Enum X_04 = Enum.forString("04");
+    static final Enum X_05 = Enum.forString("05");
+    static final Enum X_06 = Enum.forString("06");
+    static final Enum X_07 = Enum.forString("07");
+    static final Enum X_08 = Enum.forString("08");
+    static final Enum X_09 = Enum.forString("09");
+    static final Enum X_10 = Enum.forString("10");
+    static final Enum X_11 = Enum.forString("11");
+    static final Enum X_12 = Enum.forString("12");
+    static final Enum X_13 = Enum.forString("13");
+    static final Enum X_14 = Enum.forString("14");
+    static final Enum X_15 = Enum.forString("15");
+    static final Enum X_16 = Enum.forString("16");
+    static final Enum X_17 = Enum.forString("17");
+    static final Enum X_18 = Enum.forString("18");
+    static final Enum X_19 = Enum.forString("19");
+    static final Enum X_1_A = Enum.forString("1A");
+    static final Enum X_1_B = Enum.forString("1B");
+    static final Enum X_1_C = Enum.forString("1C");
+    static final Enum X_1_D = Enum.forString("1D");
+    static final Enum X_1_E = Enum.forString("1E");
+    static final Enum X_1_F = Enum.forString("1F");
+    static final Enum X_1_G = Enum.forString("1G");
+    static final Enum X_1_H = Enum.forString("1H");
+    static final Enum X_1_I = Enum.forString("1I");
+    static final Enum X_1_J = Enum.forString("1J");
+    static final Enum X_1_K = Enum.forString("1K");
+    static final Enum X_1_L = Enum.forString("1L");
+    static final Enum X_1_M = Enum.forString("1M");
+    static final Enum X_1_N = Enum.forString("1N");
+    static final Enum X_1_O = Enum.forString("1O");
+    static final Enum X_1_P = Enum.forString("1P");
+    static final Enum X_1_Q = Enum.forString("1Q");
+    static final Enum X_1_R = Enum.forString("1R");
+    static final Enum X_1_X = Enum.forString("1X");
+    static final Enum X_20 = Enum.forString("20");
+    static final Enum X_21 = Enum.forString("21");
+    static final Enum X_22 = Enum.forString("22");
+    static final Enum X_23 = Enum.forString("23");
+    static final Enum X_24 = Enum.forString("24");
+    static final Enum X_25 = Enum.forString("25");
+    static final Enum X_26 = Enum.forString("26");
+    static final Enum X_27 = Enum.forString("27");
+    static final Enum X_28 = Enum.forString("28");
+    static final Enum X_29 = Enum.forString("29");
+    static final Enum X_2_A = Enum.forString("2A");
+    static final Enum X_2_B = Enum.forString("2B");
+    static final Enum X_2_C = Enum.forString("2C");
+    static final Enum X_2_D = Enum.forString("2D");
+    static final Enum X_2_F = Enum.forString("2F");
+    static final Enum X_2_G = Enum.forString("2G");
+    static final Enum X_2_H = Enum.forString("2H");
+    static final Enum X_2_I = Enum.forString("2I");
+    static final Enum X_2_J = Enum.forString("2J");
+    static final Enum X_2_K = Enum.forString("2K");
+    static final Enum X_2_L = Enum.forString("2L");
+    static final Enum X_2_M = Enum.forString("2M");
+    static final Enum X_2_N = Enum.forString("2N");
+    static final Enum X_2_P = Enum.forString("2P");
+    static final Enum X_2_Q = Enum.forString("2Q");
+    static final Enum X_2_R = Enum.forString("2R");
+    static final Enum X_2_U = Enum.forString("2U");
+    static final Enum X_2_V = Enum.forString("2V");
+    static final Enum X_2_W = Enum.forString("2W");
+    static final Enum X_2_X = Enum.forString("2X");
+    static final Enum X_2_Y = Enum.forString("2Y");
+    static final Enum X_2_Z = Enum.forString("2Z");
+    static final Enum X_30 = Enum.forString("30");
+    static final Enum X_31 = Enum.forString("31");
+    static final Enum X_32 = Enum.forString("32");
+    static final Enum X_33 = Enum.forString("33");
+    static final Enum X_34 = Enum.forString("34");
+    static final Enum X_35 = Enum.forString("35");
+    static final Enum X_36 = Enum.forString("36");
+    static final Enum X_37 = Enum.forString("37");
+    static final Enum X_38 = Enum.forString("38");
+    static final Enum X_39 = Enum.forString("39");
+    static final Enum X_3_B = Enum.forString("3B");
+    static final Enum X_3_C = Enum.forString("3C");
+    static final Enum X_3_E = Enum.forString("3E");
+    static final Enum X_3_F = Enum.forString("3F");
+    static final Enum X_3_G = Enum.forString("3G");
+    static final Enum X_3_H = Enum.forString("3H");
+    static final Enum X_3_I = Enum.forString("3I");
+    static final Enum X_40 = Enum.forString("40");
+    static final Enum X_41 = Enum.forString("41");
+    static final Enum X_43 = Enum.forString("43");
+    static final Enum X_44 = Enum.forString("44");
+    static final Enum X_45 = Enum.forString("45");
+    static final Enum X_46 = Enum.forString("46");
+    static final Enum X_47 = Enum.forString("47");
+    static final Enum X_48 = Enum.forString("48");
+    static final Enum X_4_A = Enum.forString("4A");
+    static final Enum X_4_B = Enum.forString("4B");
+    static final Enum X_4_C = Enum.forString("4C");
+    static final Enum X_4_D = Enum.forString("4D");
+    static final Enum X_4_E = Enum.forString("4E");
+    static final Enum X_4_F = Enum.forString("4F");
+    static final Enum X_4_G = Enum.forString("4G");
+    static final Enum X_4_I = Enum.forString("4I");
+    static final Enum X_4_J = Enum.forString("4J");
+    static final Enum X_4_K = Enum.forString("4K");
+    static final Enum X_4_L = Enum.forString("4L");
+    static final Enum X_4_M = Enum.forString("4M");
+    static final Enum X_4_N = Enum.forString("4N");
+    static final Enum X_4_O = Enum.forString("4O");
+    static final Enum X_4_P = Enum.forString("4P");
+    static final Enum X_4_Q = Enum.forString("4Q");
+    static final Enum X_4_R = Enum.forString("4R");
+    static final Enum X_4_S = Enum.forString("4S");
+    static final Enum X_4_T = Enum.forString("4T");
+    static final Enum X_4_U = Enum.forString("4U");
+    static final Enum X_4_V = Enum.forString("4V");
+    static final Enum X_4_W = Enum.forString("4W");
+    static final Enum X_4_X = Enum.forString("4X");
+    static final Enum X_50 = Enum.forString("50");
+    static final Enum X_51 = Enum.forString("51");
+    static final Enum X_52 = Enum.forString("52");
+    static final Enum X_53 = Enum.forString("53");
+    static final Enum X_54 = Enum.forString("54");
+    static final Enum X_56 = Enum.forString("56");
+    static final Enum X_57 = Enum.forString("57");
+    static final Enum X_58 = Enum.forString("58");
+    static final Enum X_59 = Enum.forString("59");
+    static final Enum X_5_A = Enum.forString("5A");
+    static final Enum X_5_B = Enum.forString("5B");
+    static final Enum X_5_C = Enum.forString("5C");
+    static final Enum X_5_D = Enum.forString("5D");
+    static final Enum X_5_E = Enum.forString("5E");
+    static final Enum X_5_F = Enum.forString("5F");
+    static final Enum X_5_G = Enum.forString("5G");
+    static final Enum X_5_H = Enum.forString("5H");
+    static final Enum X_5_I = Enum.forString("5I");
+    static final Enum X_5_J = Enum.forString("5J");
+    static final Enum X_5_K = Enum.forString("5K");
+    static final Enum X_5_P = Enum.forString("5P");
+    static final Enum X_5_Q = Enum.forString("5Q");
+    static final Enum X_60 = Enum.forString("60");
+    static final Enum X_61 = Enum.forString("61");
+    static final Enum X_62 = Enum.forString("62");
+    static final Enum X_63 = Enum.forString("63");
+    static final Enum X_64 = Enum.forString("64");
+    static final Enum X_65 = Enum.forString("65");
+    static final Enum X_66 = Enum.forString("66");
+    static final Enum X_67 = Enum.forString("67");
+    static final Enum X_68 = Enum.forString("68");
+    static final Enum X_69 = Enum.forString("69");
+    static final Enum X_70 = Enum.forString("70");
+    static final Enum X_71 = Enum.forString("71");
+    static final Enum X_72 = Enum.forString("72");
+    static final Enum X_73 = Enum.forString("73");
+    static final Enum X_74 = Enum.forString("74");
+    static final Enum X_76 = Enum.forString("76");
+    static final Enum X_77 = Enum.forString("77");
+    static final Enum X_78 = Enum.forString("78");
+    static final Enum X_79 = Enum.forString("79");
+    static final Enum X_80 = Enum.forString("80");
+    static final Enum X_81 = Enum.forString("81");
+    static final Enum X_82 = Enum.forString("82");
+    static final Enum X_83 = Enum.forString("83");
+    static final Enum X_84 = Enum.forString("84");
+    static final Enum X_85 = Enum.forString("85");
+    static final Enum X_86 = Enum.forString("86");
+    static final Enum X_87 = Enum.forString("87");
+    static final Enum X_89 = Enum.forString("89");
+    static final Enum X_8_C = Enum.forString("8C");
+    static final Enum X_8_D = Enum.forString("8D");
+    static final Enum X_8_P = Enum.forString("8P");
+    static final Enum X_8_R = Enum.forString("8R");
+    static final Enum X_8_S = Enum.forString("8S");
+    static final Enum X_8_U = Enum.forString("8U");
+    static final Enum X_90 = Enum.forString("90");
+    static final Enum X_91 = Enum.forString("91");
+    static final Enum X_92 = Enum.forString("92");
+    static final Enum X_93 = Enum.forString("93");
+    static final Enum X_94 = Enum.forString("94");
+    static final Enum X_95 = Enum.forString("95");
+    static final Enum X_96 = Enum.forString("96");
+    static final Enum X_97 = Enum.forString("97");
+    static final Enum X_98 = Enum.forString("98");
+    static final Enum X_99 = Enum.forString("99");
+    static final Enum A_8 = Enum.forString("A8");
+    static final Enum AA = Enum.forString("AA");
+    static final Enum AB = Enum.forString("AB");
+    static final Enum AC = Enum.forString("AC");
+    static final Enum AD = Enum.forString("AD");
+    static final Enum AE = Enum.forString("AE");
+    static final Enum AF = Enum.forString("AF");
+    static final Enum AG = Enum.forString("AG");
+    static final Enum AH = Enum.forString("AH");
+    static final Enum AI = Enum.forString("AI");
+    static final Enum AJ = Enum.forString("AJ");
+    static final Enum AK = Enum.forString("AK");
+    static final Enum AL = Enum.forString("AL");
+    static final Enum AM = Enum.forString("AM");
+    static final Enum AN = Enum.forString("AN");
+    static final Enum AO = Enum.forString("AO");
+    static final Enum AP = Enum.forString("AP");
+    static final Enum AQ = Enum.forString("AQ");
+    static final Enum AR = Enum.forString("AR");
+    static final Enum AS = Enum.forString("AS");
+    static final Enum AT = Enum.forString("AT");
+    static final Enum AU = Enum.forString("AU");
+    static final Enum AV = Enum.forString("AV");
+    static final Enum AW = Enum.forString("AW");
+    static final Enum AX = Enum.forString("AX");
+    static final Enum AY = Enum.forString("AY");
+    static final Enum AZ = Enum.forString("AZ");
+    static final Enum B_0 = Enum.forString("B0");
+    static final Enum B_1 = Enum.forString("B1");
+    static final Enum B_2 = Enum.forString("B2");
+    static final Enum B_3 = Enum.forString("B3");
+    static final Enum B_4 = Enum.forString("B4");
+    static final Enum B_5 = Enum.forString("B5");
+    static final Enum B_6 = Enum.forString("B6");
+    static final Enum B_7 = Enum.forString("B7");
+    static final Enum B_8 = Enum.forString("B8");
+    static final Enum B_9 = Enum.forString("B9");
+    static final Enum BA = Enum.forString("BA");
+    static final Enum BB = Enum.forString("BB");
+    static final Enum BC = Enum.forString("BC");
+    static final Enum BD = Enum.forString("BD");
+    static final Enum BE = Enum.forString("BE");
+    static final Enum BF = Enum.forString("BF");
+    static final Enum BG = Enum.forString("BG");
+    static final Enum BH = Enum.forString("BH");
+    static final Enum BI = Enum.forString("BI");
+    static final Enum BJ = Enum.forString("BJ");
+    static final Enum BK = Enum.forString("BK");
+    static final Enum BL = Enum.forString("BL");
+    static final Enum BM = Enum.forString("BM");
+    static final Enum BN = Enum.forString("BN");
+    static final Enum BO = Enum.forString("BO");
+    static final Enum BP = Enum.forString("BP");
+    static final Enum BQ = Enum.forString("BQ");
+    static final Enum BR = Enum.forString("BR");
+    static final Enum BS = Enum.forString("BS");
+    static final Enum BT = Enum.forString("BT");
+    static final Enum BU = Enum.forString("BU");
+    static final Enum BV = Enum.forString("BV");
+    static final Enum BW = Enum.forString("BW");
+    static final Enum BX = Enum.forString("BX");
+    static final Enum BY = Enum.forString("BY");
+    static final Enum BZ = Enum.forString("BZ");
+    static final Enum C_0 = Enum.forString("C0");
+    static final Enum C_1 = Enum.forString("C1");
+    static final Enum C_2 = Enum.forString("C2");
+    static final Enum C_3 = Enum.forString("C3");
+    static final Enum C_4 = Enum.forString("C4");
+    static final Enum C_5 = Enum.forString("C5");
+    static final Enum C_6 = Enum.forString("C6");
+    static final Enum C_7 = Enum.forString("C7");
+    static final Enum C_8 = Enum.forString("C8");
+    static final Enum C_9 = Enum.forString("C9");
+    static final Enum CA = Enum.forString("CA");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CC = Enum.forString("CC");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CE = Enum.forString("CE");
+    static final Enum CF = Enum.forString("CF");
+    static final Enum CG = Enum.forString("CG");
+    static final Enum CH = Enum.forString("CH");
+    static final Enum CI = Enum.forString("CI");
+    static final Enum CJ = Enum.forString("CJ");
+    static final Enum CK = Enum.forString("CK");
+    static final Enum CL = Enum.forString("CL");
+    static final Enum CM = Enum.forString("CM");
+    static final Enum CN = Enum.forString("CN");
+    static final Enum CO = Enum.forString("CO");
+    static final Enum CP = Enum.forString("CP");
+    static final Enum CQ = Enum.forString("CQ");
+    static final Enum CR = Enum.forString("CR");
+    static final Enum CS = Enum.forString("CS");
+    static final Enum CT = Enum.forString("CT");
+    static final Enum CU = Enum.forString("CU");
+    static final Enum CV = Enum.forString("CV");
+    static final Enum CW = Enum.forString("CW");
+    static final Enum CX = Enum.forString("CX");
+    static final Enum CY = Enum.forString("CY");
+    static final Enum CZ = Enum.forString("CZ");
+    static final Enum D_1 = Enum.forString("D1");
+    static final Enum D_2 = Enum.forString("D2");
+    static final Enum D_3 = Enum.forString("D3");
+    static final Enum D_5 = Enum.forString("D5");
+    static final Enum D_8 = Enum.forString("D8");
+    static final Enum D_9 = Enum.forString("D9");
+    static final Enum DA = Enum.forString("DA");
+    static final Enum DB = Enum.forString("DB");
+    static final Enum DC = Enum.forString("DC");
+    static final Enum DD = Enum.forString("DD");
+    static final Enum DE = Enum.forString("DE");
+    static final Enum DF = Enum.forString("DF");
+    static final Enum DG = Enum.forString("DG");
+    static final Enum DH = Enum.forString("DH");
+    static final Enum DI = Enum.forString("DI");
+    static final Enum DJ = Enum.forString("DJ");
+    static final Enum DK = Enum.forString("DK");
+    static final Enum DL = Enum.forString("DL");
+    static final Enum DM = Enum.forString("DM");
+    static final Enum DN = Enum.forString("DN");
+    static final Enum DO = Enum.forString("DO");
+    static final Enum DP = Enum.forString("DP");
+    static final Enum DQ = Enum.forString("DQ");
+    static final Enum DR = Enum.forString("DR");
+    static final Enum DS = Enum.forString("DS");
+    static final Enum DT = Enum.forString("DT");
+    static final Enum DU = Enum.forString("DU");
+    static final Enum DW = Enum.forString("DW");
+    static final Enum DX = Enum.forString("DX");
+    static final Enum DY = Enum.forString("DY");
+    static final Enum DZ = Enum.forString("DZ");
+    static final Enum E_1 = Enum.forString("E1");
+    static final Enum E_3 = Enum.forString("E3");
+    static final Enum E_4 = Enum.forString("E4");
+    static final Enum E_5 = Enum.forString("E5");
+    static final Enum E_7 = Enum.forString("E7");
+    static final Enum E_8 = Enum.forString("E8");
+    static final Enum E_9 = Enum.forString("E9");
+    static final Enum EA = Enum.forString("EA");
+    static final Enum EB = Enum.forString("EB");
+    static final Enum EC = Enum.forString("EC");
+    static final Enum ED = Enum.forString("ED");
+    static final Enum EE = Enum.forString("EE");
+    static final Enum EF = Enum.forString("EF");
+    static final Enum EG = Enum.forString("EG");
+    static final Enum EH = Enum.forString("EH");
+    static final Enum EJ = Enum.forString("EJ");
+    static final Enum EM = Enum.forString("EM");
+    static final Enum EP = Enum.forString("EP");
+    static final Enum EQ = Enum.forString("EQ");
+    static final Enum EV = Enum.forString("EV");
+    static final Enum EX = Enum.forString("EX");
+    static final Enum EY = Enum.forString("EY");
+    static final Enum EZ = Enum.forString("EZ");
+    static final Enum F_1 = Enum.forString("F1");
+    static final Enum F_2 = Enum.forString("F2");
+    static final Enum F_3 = Enum.forString("F3");
+    static final Enum F_4 = Enum.forString("F4");
+    static final Enum F_5 = Enum.forString("F5");
+    static final Enum F_6 = Enum.forString("F6");
+    static final Enum F_9 = Enum.forString("F9");
+    static final Enum FA = Enum.forString("FA");
+    static final Enum FB = Enum.forString("FB");
+    static final Enum FC = Enum.forString("FC");
+    static final Enum FD = Enum.forString("FD");
+    static final Enum FE = Enum.forString("FE");
+    static final Enum FF = Enum.forString("FF");
+    static final Enum FG = Enum.forString("FG");
+    static final Enum FH = Enum.forString("FH");
+    static final Enum FJ = Enum.forString("FJ");
+    static final Enum FK = Enum.forString("FK");
+    static final Enum FL = Enum.forString("FL");
+    static final Enum FM = Enum.forString("FM");
+    static final Enum FO = Enum.forString("FO");
+    static final Enum FP = Enum.forString("FP");
+    static final Enum FR = Enum.forString("FR");
+    static final Enum FS = Enum.forString("FS");
+    static final Enum FT = Enum.forString("FT");
+    static final Enum FZ = Enum.forString("FZ");
+    static final Enum G_2 = Enum.forString("G2");
+    static final Enum G_3 = Enum.forString("G3");
+    static final Enum G_4 = Enum.forString("G4");
+    static final Enum G_5 = Enum.forString("G5");
+    static final Enum G_6 = Enum.forString("G6");
+    static final Enum G_7 = Enum.forString("G7");
+    static final Enum G_8 = Enum.forString("G8");
+    static final Enum G_9 = Enum.forString("G9");
+    static final Enum GA = Enum.forString("GA");
+    static final Enum GB = Enum.forString("GB");
+    static final Enum GC = Enum.forString("GC");
+    static final Enum GD = Enum.forString("GD");
+    static final Enum GE = Enum.forString("GE");
+    static final Enum GF = Enum.forString("GF");
+    static final Enum GG = Enum.forString("GG");
+    static final Enum GH = Enum.forString("GH");
+    static final Enum GI = Enum.forString("GI");
+    static final Enum GJ = Enum.forString("GJ");
+    static final Enum GK = Enum.forString("GK");
+    static final Enum GL = Enum.forString("GL");
+    static final Enum GM = Enum.forString("GM");
+    static final Enum GN = Enum.forString("GN");
+    static final Enum GO = Enum.forString("GO");
+    static final Enum GP = Enum.forString("GP");
+    static final Enum GQ = Enum.forString("GQ");
+    static final Enum GR = Enum.forString("GR");
+    static final Enum GS = Enum.forString("GS");
+    static final Enum GT = Enum.forString("GT");
+    static final Enum GU = Enum.forString("GU");
+    static final Enum GV = Enum.forString("GV");
+    static final Enum GW = Enum.forString("GW");
+    static final Enum GX = Enum.forString("GX");
+    static final Enum GY = Enum.forString("GY");
+    static final Enum GZ = Enum.forString("GZ");
+    static final Enum H_1 = Enum.forString("H1");
+    static final Enum H_2 = Enum.forString("H2");
+    static final Enum H_4 = Enum.forString("H4");
+    static final Enum HA = Enum.forString("HA");
+    static final Enum HB = Enum.forString("HB");
+    static final Enum HC = Enum.forString("HC");
+    static final Enum HD = Enum.forString("HD");
+    static final Enum HE = Enum.forString("HE");
+    static final Enum HF = Enum.forString("HF");
+    static final Enum HG = Enum.forString("HG");
+    static final Enum HH = Enum.forString("HH");
+    static final Enum HI = Enum.forString("HI");
+    static final Enum HJ = Enum.forString("HJ");
+    static final Enum HK = Enum.forString("HK");
+    static final Enum HL = Enum.forString("HL");
+    static final Enum HM = Enum.forString("HM");
+    static final Enum HN = Enum.forString("HN");
+    static final Enum HO = Enum.forString("HO");
+    static final Enum HP = Enum.forString("HP");
+    static final Enum HQ = Enum.forString("HQ");
+    static final Enum HR = Enum.forString("HR");
+    static final Enum HS = Enum.forString("HS");
+    static final Enum HT = Enum.forString("HT");
+    static final Enum HU = Enum.forString("HU");
+    static final Enum HV = Enum.forString("HV");
+    static final Enum HW = Enum.forString("HW");
+    static final Enum HY = Enum.forString("HY");
+    static final Enum HZ = Enum.forString("HZ");
+    static final Enum IA = Enum.forString("IA");
+    static final Enum IB = Enum.forString("IB");
+    static final Enum IC = Enum.forString("IC");
+    static final Enum IE = Enum.forString("IE");
+    static final Enum IF = Enum.forString("IF");
+    static final Enum IG = Enum.forString("IG");
+    static final Enum IH = Enum.forString("IH");
+    static final Enum II = Enum.forString("II");
+    static final Enum IK = Enum.forString("IK");
+    static final Enum IL = Enum.forString("IL");
+    static final Enum IM = Enum.forString("IM");
+    static final Enum IN = Enum.forString("IN");
+    static final Enum IP = Enum.forString("IP");
+    static final Enum IS = Enum.forString("IS");
+    static final Enum IT = Enum.forString("IT");
+    static final Enum IU = Enum.forString("IU");
+    static final Enum IV = Enum.forString("IV");
+    static final Enum IW = Enum.forString("IW");
+    static final Enum J_2 = Enum.forString("J2");
+    static final Enum JA = Enum.forString("JA");
+    static final Enum JB = Enum.forString("JB");
+    static final Enum JE = Enum.forString("JE");
+    static final Enum JG = Enum.forString("JG");
+    static final Enum JK = Enum.forString("JK");
+    static final Enum JM = Enum.forString("JM");
+    static final Enum JO = Enum.forString("JO");
+    static final Enum JR = Enum.forString("JR");
+    static final Enum JU = Enum.forString("JU");
+    static final Enum K_1 = Enum.forString("K1");
+    static final Enum K_2 = Enum.forString("K2");
+    static final Enum K_3 = Enum.forString("K3");
+    static final Enum K_4 = Enum.forString("K4");
+    static final Enum K_5 = Enum.forString("K5");
+    static final Enum K_6 = Enum.forString("K6");
+    static final Enum K_7 = Enum.forString("K7");
+    static final Enum K_9 = Enum.forString("K9");
+    static final Enum KA = Enum.forString("KA");
+    static final Enum KB = Enum.forString("KB");
+    static final Enum KC = Enum.forString("KC");
+    static final Enum KD = Enum.forString("KD");
+    static final Enum KE = Enum.forString("KE");
+    static final Enum KF = Enum.forString("KF");
+    static final Enum KG = Enum.forString("KG");
+    static final Enum KH = Enum.forString("KH");
+    static final Enum KI = Enum.forString("KI");
+    static final Enum KJ = Enum.forString("KJ");
+    static final Enum KK = Enum.forString("KK");
+    static final Enum KL = Enum.forString("KL");
+    static final Enum KM = Enum.forString("KM");
+    static final Enum KO = Enum.forString("KO");
+    static final Enum KP = Enum.forString("KP");
+    static final Enum KQ = Enum.forString("KQ");
+    static final Enum KR = Enum.forString("KR");
+    static final Enum KT = Enum.forString("KT");
+    static final Enum KU = Enum.forString("KU");
+    static final Enum KV = Enum.forString("KV");
+    static final Enum KW = Enum.forString("KW");
+    static final Enum KX = Enum.forString("KX");
+    static final Enum L_2 = Enum.forString("L2");
+    static final Enum LA = Enum.forString("LA");
+    static final Enum LB = Enum.forString("LB");
+    static final Enum LC = Enum.forString("LC");
+    static final Enum LE = Enum.forString("LE");
+    static final Enum LF = Enum.forString("LF");
+    static final Enum LG = Enum.forString("LG");
+    static final Enum LH = Enum.forString("LH");
+    static final Enum LI = Enum.forString("LI");
+    static final Enum LJ = Enum.forString("LJ");
+    static final Enum LK = Enum.forString("LK");
+    static final Enum LL = Enum.forString("LL");
+    static final Enum LM = Enum.forString("LM");
+    static final Enum LN = Enum.forString("LN");
+    static final Enum LO = Enum.forString("LO");
+    static final Enum LP = Enum.forString("LP");
+    static final Enum LQ = Enum.forString("LQ");
+    static final Enum LR = Enum.forString("LR");
+    static final Enum LS = Enum.forString("LS");
+    static final Enum LT = Enum.forString("LT");
+    static final Enum LX = Enum.forString("LX");
+    static final Enum LY = Enum.forString("LY");
+    static final Enum M_0 = Enum.forString("M0");
+    static final Enum M_1 = Enum.forString("M1");
+    static final Enum M_2 = Enum.forString("M2");
+    static final Enum M_3 = Enum.forString("M3");
+    static final Enum M_4 = Enum.forString("M4");
+    static final Enum M_5 = Enum.forString("M5");
+    static final Enum M_6 = Enum.forString("M6");
+    static final Enum M_7 = Enum.forString("M7");
+    static final Enum M_8 = Enum.forString("M8");
+    static final Enum M_9 = Enum.forString("M9");
+    static final Enum MA = Enum.forString("MA");
+    static final Enum MB = Enum.forString("MB");
+    static final Enum MC = Enum.forString("MC");
+    static final Enum MD = Enum.forString("MD");
+    static final Enum ME = Enum.forString("ME");
+    static final Enum MF = Enum.forString("MF");
+    static final Enum MG = Enum.forString("MG");
+    static final Enum MH = Enum.forString("MH");
+    static final Enum MI = Enum.forString("MI");
+    static final Enum MJ = Enum.forString("MJ");
+    static final Enum MK = Enum.forString("MK");
+    static final Enum ML = Enum.forString("ML");
+    static final Enum MM = Enum.forString("MM");
+    static final Enum MN = Enum.forString("MN");
+    static final Enum MO = Enum.forString("MO");
+    static final Enum MP = Enum.forString("MP");
+    static final Enum MQ = Enum.forString("MQ");
+    static final Enum MR = Enum.forString("MR");
+    static final Enum MS = Enum.forString("MS");
+    static final Enum MT = Enum.forString("MT");
+    static final Enum MU = Enum.forString("MU");
+    static final Enum MV = Enum.forString("MV");
+    static final Enum MW = Enum.forString("MW");
+    static final Enum MX = Enum.forString("MX");
+    static final Enum MY = Enum.forString("MY");
+    static final Enum MZ = Enum.forString("MZ");
+    static final Enum N_1 = Enum.forString("N1");
+    static final Enum N_2 = Enum.forString("N2");
+    static final Enum N_3 = Enum.forString("N3");
+    static final Enum N_4 = Enum.forString("N4");
+    static final Enum N_6 = Enum.forString("N6");
+    static final Enum N_7 = Enum.forString("N7");
+    static final Enum N_9 = Enum.forString("N9");
+    static final Enum NA = Enum.forString("NA");
+    static final Enum NB = Enum.forString("NB");
+    static final Enum NC = Enum.forString("NC");
+    static final Enum ND = Enum.forString("ND");
+    static final Enum NE = Enum.forString("NE");
+    static final Enum NF = Enum.forString("NF");
+    static final Enum NG = Enum.forString("NG");
+    static final Enum NH = Enum.forString("NH");
+    static final Enum NI = Enum.forString("NI");
+    static final Enum NJ = Enum.forString("NJ");
+    static final Enum NK = Enum.forString("NK");
+    static final Enum NL = Enum.forString("NL");
+    static final Enum NM = Enum.forString("NM");
+    static final Enum NN = Enum.forString("NN");
+    static final Enum NQ = Enum.forString("NQ");
+    static final Enum NR = Enum.forString("NR");
+    static final Enum NS = Enum.forString("NS");
+    static final Enum NT = Enum.forString("NT");
+    static final Enum NU = Enum.forString("NU");
+    static final Enum NV = Enum.forString("NV");
+    static final Enum NW = Enum.forString("NW");
+    static final Enum NX = Enum.forString("NX");
+    static final Enum NY = Enum.forString("NY");
+    static final Enum OA = Enum.forString("OA");
+    static final Enum OC = Enum.forString("OC");
+    static final Enum ON = Enum.forString("ON");
+    static final Enum OP = Enum.forString("OP");
+    static final Enum OT = Enum.forString("OT");
+    static final Enum OZ = Enum.forString("OZ");
+    static final Enum P_0 = Enum.forString("P0");
+    static final Enum P_1 = Enum.forString("P1");
+    static final Enum P_2 = Enum.forString("P2");
+    static final Enum P_3 = Enum.forString("P3");
+    static final Enum P_4 = Enum.forString("P4");
+    static final Enum P_5 = Enum.forString("P5");
+    static final Enum P_6 = Enum.forString("P6");
+    static final Enum P_7 = Enum.forString("P7");
+    static final Enum P_8 = Enum.forString("P8");
+    static final Enum P_9 = Enum.forString("P9");
+    static final Enum PA = Enum.forString("PA");
+    static final Enum PB = Enum.forString("PB");
+    static final Enum PC = Enum.forString("PC");
+    static final Enum PD = Enum.forString("PD");
+    static final Enum PE = Enum.forString("PE");
+    static final Enum PF = Enum.forString("PF");
+    static final Enum PG = Enum.forString("PG");
+    static final Enum PH = Enum.forString("PH");
+    static final Enum PI = Enum.forString("PI");
+    static final Enum PJ = Enum.forString("PJ");
+    static final Enum PK = Enum.forString("PK");
+    static final Enum PL = Enum.forString("PL");
+    static final Enum PM = Enum.forString("PM");
+    static final Enum PN = Enum.forString("PN");
+    static final Enum PO = Enum.forString("PO");
+    static final Enum PP = Enum.forString("PP");
+    static final Enum PQ = Enum.forString("PQ");
+    static final Enum PR = Enum.forString("PR");
+    static final Enum PS = Enum.forString("PS");
+    static final Enum PT = Enum.forString("PT");
+    static final Enum PU = Enum.forString("PU");
+    static final Enum PV = Enum.forString("PV");
+    static final Enum PW = Enum.forString("PW");
+    static final Enum PX = Enum.forString("PX");
+    static final Enum PY = Enum.forString("PY");
+    static final Enum PZ = Enum.forString("PZ");
+    static final Enum Q_1 = Enum.forString("Q1");
+    static final Enum Q_2 = Enum.forString("Q2");
+    static final Enum Q_3 = Enum.forString("Q3");
+    static final Enum Q_4 = Enum.forString("Q4");
+    static final Enum Q_5 = Enum.forString("Q5");
+    static final Enum Q_6 = Enum.forString("Q6");
+    static final Enum Q_7 = Enum.forString("Q7");
+    static final Enum QA = Enum.forString("QA");
+    static final Enum QB = Enum.forString("QB");
+    static final Enum QC = Enum.forString("QC");
+    static final Enum QD = Enum.forString("QD");
+    static final Enum QE = Enum.forString("QE");
+    static final Enum QH = Enum.forString("QH");
+    static final Enum QK = Enum.forString("QK");
+    static final Enum QR = Enum.forString("QR");
+    static final Enum QS = Enum.forString("QS");
+    static final Enum QT = Enum.forString("QT");
+    static final Enum QU = Enum.forString("QU");
+    static final Enum R_1 = Enum.forString("R1");
+    static final Enum R_2 = Enum.forString("R2");
+    static final Enum R_3 = Enum.forString("R3");
+    static final Enum R_4 = Enum.forString("R4");
+    static final Enum R_5 = Enum.forString("R5");
+    static final Enum R_6 = Enum.forString("R6");
+    static final Enum R_7 = Enum.forString("R7");
+    static final Enum R_8 = Enum.forString("R8");
+    static final Enum R_9 = Enum.forString("R9");
+    static final Enum RA = Enum.forString("RA");
+    static final Enum RB = Enum.forString("RB");
+    static final Enum RC = Enum.forString("RC");
+    static final Enum RD = Enum.forString("RD");
+    static final Enum RE = Enum.forString("RE");
+    static final Enum RG = Enum.forString("RG");
+    static final Enum RH = Enum.forString("RH");
+    static final Enum RK = Enum.forString("RK");
+    static final Enum RL = Enum.forString("RL");
+    static final Enum RM = Enum.forString("RM");
+    static final Enum RN = Enum.forString("RN");
+    static final Enum RO = Enum.forString("RO");
+    static final Enum RP = Enum.forString("RP");
+    static final Enum RS = Enum.forString("RS");
+    static final Enum RT = Enum.forString("RT");
+    static final Enum RU = Enum.forString("RU");
+    static final Enum S_1 = Enum.forString("S1");
+    static final Enum S_2 = Enum.forString("S2");
+    static final Enum S_3 = Enum.forString("S3");
+    static final Enum S_4 = Enum.forString("S4");
+    static final Enum S_5 = Enum.forString("S5");
+    static final Enum S_6 = Enum.forString("S6");
+    static final Enum S_7 = Enum.forString("S7");
+    static final Enum S_8 = Enum.forString("S8");
+    static final Enum S_9 = Enum.forString("S9");
+    static final Enum SA = Enum.forString("SA");
+    static final Enum SB = Enum.forString("SB");
+    static final Enum SC = Enum.forString("SC");
+    static final Enum SD = Enum.forString("SD");
+    static final Enum SE = Enum.forString("SE");
+    static final Enum SF = Enum.forString("SF");
+    static final Enum SG = Enum.forString("SG");
+    static final Enum SH = Enum.forString("SH");
+    static final Enum SI = Enum.forString("SI");
+    static final Enum SJ = Enum.forString("SJ");
+    static final Enum SK = Enum.forString("SK");
+    static final Enum SL = Enum.forString("SL");
+    static final Enum SM = Enum.forString("SM");
+    static final Enum SN = Enum.forString("SN");
+    static final Enum SO = Enum.forString("SO");
+    static final Enum SP = Enum.forString("SP");
+    static final Enum SQ = Enum.forString("SQ");
+    static final Enum SR = Enum.forString("SR");
+    static final Enum SS = Enum.forString("SS");
+    static final Enum ST = Enum.forString("ST");
+    static final Enum SV = Enum.forString("SV");
+    static final Enum SW = Enum.forString("SW");
+    static final Enum SX = Enum.forString("SX");
+    static final Enum SY = Enum.forString("SY");
+    static final Enum SZ = Enum.forString("SZ");
+    static final Enum T_0 = Enum.forString("T0");
+    static final Enum T_1 = Enum.forString("T1");
+    static final Enum T_2 = Enum.forString("T2");
+    static final Enum T_3 = Enum.forString("T3");
+    static final Enum T_4 = Enum.forString("T4");
+    static final Enum T_5 = Enum.forString("T5");
+    static final Enum T_6 = Enum.forString("T6");
+    static final Enum T_7 = Enum.forString("T7");
+    static final Enum T_8 = Enum.forString("T8");
+    static final Enum T_9 = Enum.forString("T9");
+    static final Enum TA = Enum.forString("TA");
+    static final Enum TB = Enum.forString("TB");
+    static final Enum TC = Enum.forString("TC");
+    static final Enum TD = Enum.forString("TD");
+    static final Enum TE = Enum.forString("TE");
+    static final Enum TF = Enum.forString("TF");
+    static final Enum TG = Enum.forString("TG");
+    static final Enum TH = Enum.forString("TH");
+    static final Enum TI = Enum.forString("TI");
+    static final Enum TJ = Enum.forString("TJ");
+    static final Enum TK = Enum.forString("TK");
+    static final Enum TL = Enum.forString("TL");
+    static final Enum TM = Enum.forString("TM");
+    static final Enum TN = Enum.forString("TN");
+    static final Enum TO = Enum.forString("TO");
+    static final Enum TP = Enum.forString("TP");
+    static final Enum TQ = Enum.forString("TQ");
+    static final Enum TR = Enum.forString("TR");
+    static final Enum TS = Enum.forString("TS");
+    static final Enum TT = Enum.forString("TT");
+    static final Enum TU = Enum.forString("TU");
+    static final Enum TV = Enum.forString("TV");
+    static final Enum TW = Enum.forString("TW");
+    static final Enum TX = Enum.forString("TX");
+    static final Enum TY = Enum.forString("TY");
+    static final Enum TZ = Enum.forString("TZ");
+    static final Enum U_1 = Enum.forString("U1");
+    static final Enum U_2 = Enum.forString("U2");
+    static final Enum U_3 = Enum.forString("U3");
+    static final Enum U_5 = Enum.forString("U5");
+    static final Enum UA = Enum.forString("UA");
+    static final Enum UB = Enum.forString("UB");
+    static final Enum UC = Enum.forString("UC");
+    static final Enum UD = Enum.forString("UD");
+    static final Enum UE = Enum.forString("UE");
+    static final Enum UF = Enum.forString("UF");
+    static final Enum UH = Enum.forString("UH");
+    static final Enum UL = Enum.forString("UL");
+    static final Enum UM = Enum.forString("UM");
+    static final Enum UN = Enum.forString("UN");
+    static final Enum UP = Enum.forString("UP");
+    static final Enum UQ = Enum.forString("UQ");
+    static final Enum UR = Enum.forString("UR");
+    static final Enum US = Enum.forString("US");
+    static final Enum UT = Enum.forString("UT");
+    static final Enum UU = Enum.forString("UU");
+    static final Enum UV = Enum.forString("UV");
+    static final Enum UW = Enum.forString("UW");
+    static final Enum UX = Enum.forString("UX");
+    static final Enum UY = Enum.forString("UY");
+    static final Enum UZ = Enum.forString("UZ");
+    static final Enum V_1 = Enum.forString("V1");
+    static final Enum V_2 = Enum.forString("V2");
+    static final Enum VA = Enum.forString("VA");
+    static final Enum VC = Enum.forString("VC");
+    static final Enum VI = Enum.forString("VI");
+    static final Enum VP = Enum.forString("VP");
+    static final Enum VR = Enum.forString("VR");
+    static final Enum VS = Enum.forString("VS");
+    static final Enum W_2 = Enum.forString("W2");
+    static final Enum WA = Enum.forString("WA");
+    static final Enum WB = Enum.forString("WB");
+    static final Enum WD = Enum.forString("WD");
+    static final Enum WE = Enum.forString("WE");
+    static final Enum WG = Enum.forString("WG");
+    static final Enum WH = Enum.forString("WH");
+    static final Enum WI = Enum.forString("WI");
+    static final Enum WK = Enum.forString("WK");
+    static final Enum WM = Enum.forString("WM");
+    static final Enum WP = Enum.forString("WP");
+    static final Enum WR = Enum.forString("WR");
+    static final Enum WW = Enum.forString("WW");
+    static final Enum X_1 = Enum.forString("X1");
+    static final Enum X_2 = Enum.forString("X2");
+    static final Enum X_3 = Enum.forString("X3");
+    static final Enum X_4 = Enum.forString("X4");
+    static final Enum X_5 = Enum.forString("X5");
+    static final Enum X_6 = Enum.forString("X6");
+    static final Enum X_7 = Enum.forString("X7");
+    static final Enum X_8 = Enum.forString("X8");
+    static final Enum X_9 = Enum.forString("X9");
+    static final Enum XP = Enum.forString("XP");
+    static final Enum Y_1 = Enum.forString("Y1");
+    static final Enum Y_2 = Enum.forString("Y2");
+    static final Enum Y_3 = Enum.forString("Y3");
+    static final Enum Y_4 = Enum.forString("Y4");
+    static final Enum YD = Enum.forString("YD");
+    static final Enum YL = Enum.forString("YL");
+    static final Enum YR = Enum.forString("YR");
+    static final Enum YT = Enum.forString("YT");
+    static final Enum Z_1 = Enum.forString("Z1");
+    static final Enum Z_2 = Enum.forString("Z2");
+    static final Enum Z_3 = Enum.forString("Z3");
+    static final Enum Z_4 = Enum.forString("Z4");
+    static final Enum Z_5 = Enum.forString("Z5");
+    static final Enum Z_6 = Enum.forString("Z6");
+    static final Enum Z_8 = Enum.forString("Z8");
+    static final Enum ZA = Enum.forString("ZA");
+    static final Enum ZB = Enum.forString("ZB");
+    static final Enum ZC = Enum.forString("ZC");
+    static final Enum ZD = Enum.forString("ZD");
+    static final Enum ZE = Enum.forString("ZE");
+    static final Enum ZP = Enum.forString("ZP");
+    static final Enum ZZ = Enum.forString("ZZ");
+    
+    static final int INT_X_01 = Enum.INT_X_01;
+    static final int INT_X_02 = Enum.INT_X_02;
+    static final int INT_X_03 = Enum.INT_X_03;
+    static final int INT_X_04 = Enum.INT_X_04;
+    static final int INT_X_05 = Enum.INT_X_05;
+    static final int INT_X_06 = Enum.INT_X_06;
+    static final int INT_X_07 = Enum.INT_X_07;
+    static final int INT_X_08 = Enum.INT_X_08;
+    static final int INT_X_09 = Enum.INT_X_09;
+    static final int INT_X_10 = Enum.INT_X_10;
+    static final int INT_X_11 = Enum.INT_X_11;
+    static final int INT_X_12 = Enum.INT_X_12;
+    static final int INT_X_13 = Enum.INT_X_13;
+    static final int INT_X_14 = Enum.INT_X_14;
+    static final int INT_X_15 = Enum.INT_X_15;
+    static final int INT_X_16 = Enum.INT_X_16;
+    static final int INT_X_17 = Enum.INT_X_17;
+    static final int INT_X_18 = Enum.INT_X_18;
+    static final int INT_X_19 = Enum.INT_X_19;
+    static final int INT_X_1_A = Enum.INT_X_1_A;
+    static final int INT_X_1_B = Enum.INT_X_1_B;
+    static final int INT_X_1_C = Enum.INT_X_1_C;
+    static final int INT_X_1_D = Enum.INT_X_1_D;
+    static final int INT_X_1_E = Enum.INT_X_1_E;
+    static final int INT_X_1_F = Enum.INT_X_1_F;
+    static final int INT_X_1_G = Enum.INT_X_1_G;
+    static final int INT_X_1_H = Enum.INT_X_1_H;
+    static final int INT_X_1_I = Enum.INT_X_1_I;
+    static final int INT_X_1_J = Enum.INT_X_1_J;
+    static final int INT_X_1_K = Enum.INT_X_1_K;
+    static final int INT_X_1_L = Enum.INT_X_1_L;
+    static final int INT_X_1_M = Enum.INT_X_1_M;
+    static final int INT_X_1_N = Enum.INT_X_1_N;
+    static final int INT_X_1_O = Enum.INT_X_1_O;
+    static final int INT_X_1_P = Enum.INT_X_1_P;
+    static final int INT_X_1_Q = Enum.INT_X_1_Q;
+    static final int INT_X_1_R = Enum.INT_X_1_R;
+    static final int INT_X_1_X = Enum.INT_X_1_X;
+    static final int INT_X_20 = Enum.INT_X_20;
+    static final int INT_X_21 = Enum.INT_X_21;
+    static final int INT_X_22 = Enum.INT_X_22;
+    static final int INT_X_23 = Enum.INT_X_23;
+    static final int INT_X_24 = Enum.INT_X_24;
+    static final int INT_X_25 = Enum.INT_X_25;
+    static final int INT_X_26 = Enum.INT_X_26;
+    static final int INT_X_27 = Enum.INT_X_27;
+    static final int INT_X_28 = Enum.INT_X_28;
+    static final int INT_X_29 = Enum.INT_X_29;
+    static final int INT_X_2_A = Enum.INT_X_2_A;
+    static final int INT_X_2_B = Enum.INT_X_2_B;
+    static final int INT_X_2_C = Enum.INT_X_2_C;
+    static final int INT_X_2_D = Enum.INT_X_2_D;
+    static final int INT_X_2_F = Enum.INT_X_2_F;
+    static final int INT_X_2_G = Enum.INT_X_2_G;
+    static final int INT_X_2_H = Enum.INT_X_2_H;
+    static final int INT_X_2_I = Enum.INT_X_2_I;
+    static final int INT_X_2_J = Enum.INT_X_2_J;
+    static final int INT_X_2_K = Enum.INT_X_2_K;
+    static final int INT_X_2_L = Enum.INT_X_2_L;
+    static final int INT_X_2_M = Enum.INT_X_2_M;
+    static final int INT_X_2_N = Enum.INT_X_2_N;
+    static final int INT_X_2_P = Enum.INT_X_2_P;
+    static final int INT_X_2_Q = Enum.INT_X_2_Q;
+    static final int INT_X_2_R = Enum.INT_X_2_R;
+    static final int INT_X_2_U = Enum.INT_X_2_U;
+    static final int INT_X_2_V = Enum.INT_X_2_V;
+    static final int INT_X_2_W = Enum.INT_X_2_W;
+    static final int INT_X_2_X = Enum.INT_X_2_X;
+    static final int INT_X_2_Y = Enum.INT_X_2_Y;
+    static final int INT_X_2_Z = Enum.INT_X_2_Z;
+    static final int INT_X_30 = Enum.INT_X_30;
+    static final int INT_X_31 = Enum.INT_X_31;
+    static final int INT_X_32 = Enum.INT_X_32;
+    static final int INT_X_33 = Enum.INT_X_33;
+    static final int INT_X_34 = Enum.INT_X_34;
+    static final int INT_X_35 = Enum.INT_X_35;
+    static final int INT_X_36 = Enum.INT_X_36;
+    static final int INT_X_37 = Enum.INT_X_37;
+    static final int INT_X_38 = Enum.INT_X_38;
+    static final int INT_X_39 = Enum.INT_X_39;
+    static final int INT_X_3_B = Enum.INT_X_3_B;
+    static final int INT_X_3_C = Enum.INT_X_3_C;
+    static final int INT_X_3_E = Enum.INT_X_3_E;
+    static final int INT_X_3_F = Enum.INT_X_3_F;
+    static final int INT_X_3_G = Enum.INT_X_3_G;
+    static final int INT_X_3_H = Enum.INT_X_3_H;
+    static final int INT_X_3_I = Enum.INT_X_3_I;
+    static final int INT_X_40 = Enum.INT_X_40;
+    static final int INT_X_41 = Enum.INT_X_41;
+    static final int INT_X_43 = Enum.INT_X_43;
+    static final int INT_X_44 = Enum.INT_X_44;
+    static final int INT_X_45 = Enum.INT_X_45;
+    static final int INT_X_46 = Enum.INT_X_46;
+    static final int INT_X_47 = Enum.INT_X_47;
+    static final int INT_X_48 = Enum.INT_X_48;
+    static final int INT_X_4_A = Enum.INT_X_4_A;
+    static final int INT_X_4_B = Enum.INT_X_4_B;
+    static final int INT_X_4_C = Enum.INT_X_4_C;
+    static final int INT_X_4_D = Enum.INT_X_4_D;
+    static final int INT_X_4_E = Enum.INT_X_4_E;
+    static final int INT_X_4_F = Enum.INT_X_4_F;
+    static final int INT_X_4_G = Enum.INT_X_4_G;
+    static final int INT_X_4_I = Enum.INT_X_4_I;
+    static final int INT_X_4_J = Enum.INT_X_4_J;
+    static final int INT_X_4_K = Enum.INT_X_4_K;
+    static final int INT_X_4_L = Enum.INT_X_4_L;
+    static final int INT_X_4_M = Enum.INT_X_4_M;
+    static final int INT_X_4_N = Enum.INT_X_4_N;
+    static final int INT_X_4_O = Enum.INT_X_4_O;
+    static final int INT_X_4_P = Enum.INT_X_4_P;
+    static final int INT_X_4_Q = Enum.INT_X_4_Q;
+    static final int INT_X_4_R = Enum.INT_X_4_R;
+    static final int INT_X_4_S = Enum.INT_X_4_S;
+    static final int INT_X_4_T = Enum.INT_X_4_T;
+    static final int INT_X_4_U = Enum.INT_X_4_U;
+    static final int INT_X_4_V = Enum.INT_X_4_V;
+    static final int INT_X_4_W = Enum.INT_X_4_W;
+    static final int INT_X_4_X = Enum.INT_X_4_X;
+    static final int INT_X_50 = Enum.INT_X_50;
+    static final int INT_X_51 = Enum.INT_X_51;
+    static final int INT_X_52 = Enum.INT_X_52;
+    static final int INT_X_53 = Enum.INT_X_53;
+    static final int INT_X_54 = Enum.INT_X_54;
+    static final int INT_X_56 = Enum.INT_X_56;
+    static final int INT_X_57 = Enum.INT_X_57;
+    static final int INT_X_58 = Enum.INT_X_58;
+    static final int INT_X_59 = Enum.INT_X_59;
+    static final int INT_X_5_A = Enum.INT_X_5_A;
+    static final int INT_X_5_B = Enum.INT_X_5_B;
+    static final int INT_X_5_C = Enum.INT_X_5_C;
+    static final int INT_X_5_D = Enum.INT_X_5_D;
+    static final int INT_X_5_E = Enum.INT_X_5_E;
+    static final int INT_X_5_F = Enum.INT_X_5_F;
+    static final int INT_X_5_G = Enum.INT_X_5_G;
+    static final int INT_X_5_H = Enum.INT_X_5_H;
+    static final int INT_X_5_I = Enum.INT_X_5_I;
+    static final int INT_X_5_J = Enum.INT_X_5_J;
+    static final int INT_X_5_K = Enum.INT_X_5_K;
+    static final int INT_X_5_P = Enum.INT_X_5_P;
+    static final int INT_X_5_Q = Enum.INT_X_5_Q;
+    static final int INT_X_60 = Enum.INT_X_60;
+    static final int INT_X_61 = Enum.INT_X_61;
+    static final int INT_X_62 = Enum.INT_X_62;
+    static final int INT_X_63 = Enum.INT_X_63;
+    static final int INT_X_64 = Enum.INT_X_64;
+    static final int INT_X_65 = Enum.INT_X_65;
+    static final int INT_X_66 = Enum.INT_X_66;
+    static final int INT_X_67 = Enum.INT_X_67;
+    static final int INT_X_68 = Enum.INT_X_68;
+    static final int INT_X_69 = Enum.INT_X_69;
+    static final int INT_X_70 = Enum.INT_X_70;
+    static final int INT_X_71 = Enum.INT_X_71;
+    static final int INT_X_72 = Enum.INT_X_72;
+    static final int INT_X_73 = Enum.INT_X_73;
+    static final int INT_X_74 = Enum.INT_X_74;
+    static final int INT_X_76 = Enum.INT_X_76;
+    static final int INT_X_77 = Enum.INT_X_77;
+    static final int INT_X_78 = Enum.INT_X_78;
+    static final int INT_X_79 = Enum.INT_X_79;
+    static final int INT_X_80 = Enum.INT_X_80;
+    static final int INT_X_81 = Enum.INT_X_81;
+    static final int INT_X_82 = Enum.INT_X_82;
+    static final int INT_X_83 = Enum.INT_X_83;
+    static final int INT_X_84 = Enum.INT_X_84;
+    static final int INT_X_85 = Enum.INT_X_85;
+    static final int INT_X_86 = Enum.INT_X_86;
+    static final int INT_X_87 = Enum.INT_X_87;
+    static final int INT_X_89 = Enum.INT_X_89;
+    static final int INT_X_8_C = Enum.INT_X_8_C;
+    static final int INT_X_8_D = Enum.INT_X_8_D;
+    static final int INT_X_8_P = Enum.INT_X_8_P;
+    static final int INT_X_8_R = Enum.INT_X_8_R;
+    static final int INT_X_8_S = Enum.INT_X_8_S;
+    static final int INT_X_8_U = Enum.INT_X_8_U;
+    static final int INT_X_90 = Enum.INT_X_90;
+    static final int INT_X_91 = Enum.INT_X_91;
+    static final int INT_X_92 = Enum.INT_X_92;
+    static final int INT_X_93 = Enum.INT_X_93;
+    static final int INT_X_94 = Enum.INT_X_94;
+    static final int INT_X_95 = Enum.INT_X_95;
+    static final int INT_X_96 = Enum.INT_X_96;
+    static final int INT_X_97 = Enum.INT_X_97;
+    static final int INT_X_98 = Enum.INT_X_98;
+    static final int INT_X_99 = Enum.INT_X_99;
+    static final int INT_A_8 = Enum.INT_A_8;
+    static final int INT_AA = Enum.INT_AA;
+    static final int INT_AB = Enum.INT_AB;
+    static final int INT_AC = Enum.INT_AC;
+    static final int INT_AD = Enum.INT_AD;
+    static final int INT_AE = Enum.INT_AE;
+    static final int INT_AF = Enum.INT_AF;
+    static final int INT_AG = Enum.INT_AG;
+    static final int INT_AH = Enum.INT_AH;
+    static final int INT_AI = Enum.INT_AI;
+    static final int INT_AJ = Enum.INT_AJ;
+    static final int INT_AK = Enum.INT_AK;
+    static final int INT_AL = Enum.INT_AL;
+    static final int INT_AM = Enum.INT_AM;
+    static final int INT_AN = Enum.INT_AN;
+    static final int INT_AO = Enum.INT_AO;
+    static final int INT_AP = Enum.INT_AP;
+    static final int INT_AQ = Enum.INT_AQ;
+    static final int INT_AR = Enum.INT_AR;
+    static final int INT_AS = Enum.INT_AS;
+    static final int INT_AT = Enum.INT_AT;
+    static final int INT_AU = Enum.INT_AU;
+    static final int INT_AV = Enum.INT_AV;
+    static final int INT_AW = Enum.INT_AW;
+    static final int INT_AX = Enum.INT_AX;
+    static final int INT_AY = Enum.INT_AY;
+    static final int INT_AZ = Enum.INT_AZ;
+    static final int INT_B_0 = Enum.INT_B_0;
+    static final int INT_B_1 = Enum.INT_B_1;
+    static final int INT_B_2 = Enum.INT_B_2;
+    static final int INT_B_3 = Enum.INT_B_3;
+    static final int INT_B_4 = Enum.INT_B_4;
+    static final int INT_B_5 = Enum.INT_B_5;
+    static final int INT_B_6 = Enum.INT_B_6;
+    static final int INT_B_7 = Enum.INT_B_7;
+    static final int INT_B_8 = Enum.INT_B_8;
+    static final int INT_B_9 = Enum.INT_B_9;
+    static final int INT_BA = Enum.INT_BA;
+    static final int INT_BB = Enum.INT_BB;
+    static final int INT_BC = Enum.INT_BC;
+    static final int INT_BD = Enum.INT_BD;
+    static final int INT_BE = Enum.INT_BE;
+    static final int INT_BF = Enum.INT_BF;
+    static final int INT_BG = Enum.INT_BG;
+    static final int INT_BH = Enum.INT_BH;
+    static final int INT_BI = Enum.INT_BI;
+    static final int INT_BJ = Enum.INT_BJ;
+    static final int INT_BK = Enum.INT_BK;
+    static final int INT_BL = Enum.INT_BL;
+    static final int INT_BM = Enum.INT_BM;
+    static final int INT_BN = Enum.INT_BN;
+    static final int INT_BO = Enum.INT_BO;
+    static final int INT_BP = Enum.INT_BP;
+    static final int INT_BQ = Enum.INT_BQ;
+    static final int INT_BR = Enum.INT_BR;
+    static final int INT_BS = Enum.INT_BS;
+    static final int INT_BT = Enum.INT_BT;
+    static final int INT_BU = Enum.INT_BU;
+    static final int INT_BV = Enum.INT_BV;
+    static final int INT_BW = Enum.INT_BW;
+    static final int INT_BX = Enum.INT_BX;
+    static final int INT_BY = Enum.INT_BY;
+    static final int INT_BZ = Enum.INT_BZ;
+    static final int INT_C_0 = Enum.INT_C_0;
+    static final int INT_C_1 = Enum.INT_C_1;
+    static final int INT_C_2 = Enum.INT_C_2;
+    static final int INT_C_3 = Enum.INT_C_3;
+    static final int INT_C_4 = Enum.INT_C_4;
+    static final int INT_C_5 = Enum.INT_C_5;
+    static final int INT_C_6 = Enum.INT_C_6;
+    static final int INT_C_7 = Enum.INT_C_7;
+    static final int INT_C_8 = Enum.INT_C_8;
+    static final int INT_C_9 = Enum.INT_C_9;
+    static final int INT_CA = Enum.INT_CA;
+    static final int INT_CB = Enum.INT_CB;
+    static final int INT_CC = Enum.INT_CC;
+    static final int INT_CD = Enum.INT_CD;
+    static final int INT_CE = Enum.INT_CE;
+    static final int INT_CF = Enum.INT_CF;
+    static final int INT_CG = Enum.INT_CG;
+    static final int INT_CH = Enum.INT_CH;
+    static final int INT_CI = Enum.INT_CI;
+    static final int INT_CJ = Enum.INT_CJ;
+    static final int INT_CK = Enum.INT_CK;
+    static final int INT_CL = Enum.INT_CL;
+    static final int INT_CM = Enum.INT_CM;
+    static final int INT_CN = Enum.INT_CN;
+    static final int INT_CO = Enum.INT_CO;
+    static final int INT_CP = Enum.INT_CP;
+    static final int INT_CQ = Enum.INT_CQ;
+    static final int INT_CR = Enum.INT_CR;
+    static final int INT_CS = Enum.INT_CS;
+    static final int INT_CT = Enum.INT_CT;
+    static final int INT_CU = Enum.INT_CU;
+    static final int INT_CV = Enum.INT_CV;
+    static final int INT_CW = Enum.INT_CW;
+    static final int INT_CX = Enum.INT_CX;
+    static final int INT_CY = Enum.INT_CY;
+    static final int INT_CZ = Enum.INT_CZ;
+    static final int INT_D_1 = Enum.INT_D_1;
+    static final int INT_D_2 = Enum.INT_D_2;
+    static final int INT_D_3 = Enum.INT_D_3;
+    static final int INT_D_5 = Enum.INT_D_5;
+    static final int INT_D_8 = Enum.INT_D_8;
+    static final int INT_D_9 = Enum.INT_D_9;
+    static final int INT_DA = Enum.INT_DA;
+    static final int INT_DB = Enum.INT_DB;
+    static final int INT_DC = Enum.INT_DC;
+    static final int INT_DD = Enum.INT_DD;
+    static final int INT_DE = Enum.INT_DE;
+    static final int INT_DF = Enum.INT_DF;
+    static final int INT_DG = Enum.INT_DG;
+    static final int INT_DH = Enum.INT_DH;
+    static final int INT_DI = Enum.INT_DI;
+    static final int INT_DJ = Enum.INT_DJ;
+    static final int INT_DK = Enum.INT_DK;
+    static final int INT_DL = Enum.INT_DL;
+    static final int INT_DM = Enum.INT_DM;
+    static final int INT_DN = Enum.INT_DN;
+    static final int INT_DO = Enum.INT_DO;
+    static final int INT_DP = Enum.INT_DP;
+    static final int INT_DQ = Enum.INT_DQ;
+    static final int INT_DR = Enum.INT_DR;
+    static final int INT_DS = Enum.INT_DS;
+    static final int INT_DT = Enum.INT_DT;
+    static final int INT_DU = Enum.INT_DU;
+    static final int INT_DW = Enum.INT_DW;
+    static final int INT_DX = Enum.INT_DX;
+    static final int INT_DY = Enum.INT_DY;
+    static final int INT_DZ = Enum.INT_DZ;
+    static final int INT_E_1 = Enum.INT_E_1;
+    static final int INT_E_3 = Enum.INT_E_3;
+    static final int INT_E_4 = Enum.INT_E_4;
+    static final int INT_E_5 = Enum.INT_E_5;
+    static final int INT_E_7 = Enum.INT_E_7;
+    static final int INT_E_8 = Enum.INT_E_8;
+    static final int INT_E_9 = Enum.INT_E_9;
+    static final int INT_EA = Enum.INT_EA;
+    static final int INT_EB = Enum.INT_EB;
+    static final int INT_EC = Enum.INT_EC;
+    static final int INT_ED = Enum.INT_ED;
+    static final int INT_EE = Enum.INT_EE;
+    static final int INT_EF = Enum.INT_EF;
+    static final int INT_EG = Enum.INT_EG;
+    static final int INT_EH = Enum.INT_EH;
+    static final int INT_EJ = Enum.INT_EJ;
+    static final int INT_EM = Enum.INT_EM;
+    static final int INT_EP = Enum.INT_EP;
+    static final int INT_EQ = Enum.INT_EQ;
+    static final int INT_EV = Enum.INT_EV;
+    static final int INT_EX = Enum.INT_EX;
+    static final int INT_EY = Enum.INT_EY;
+    static final int INT_EZ = Enum.INT_EZ;
+    static final int INT_F_1 = Enum.INT_F_1;
+    static final int INT_F_2 = Enum.INT_F_2;
+    static final int INT_F_3 = Enum.INT_F_3;
+    static final int INT_F_4 = Enum.INT_F_4;
+    static final int INT_F_5 = Enum.INT_F_5;
+    static final int INT_F_6 = Enum.INT_F_6;
+    static final int INT_F_9 = Enum.INT_F_9;
+    static final int INT_FA = Enum.INT_FA;
+    static final int INT_FB = Enum.INT_FB;
+    static final int INT_FC = Enum.INT_FC;
+    static final int INT_FD = Enum.INT_FD;
+    static final int INT_FE = Enum.INT_FE;
+    static final int INT_FF = Enum.INT_FF;
+    static final int INT_FG = Enum.INT_FG;
+    static final int INT_FH = Enum.INT_FH;
+    static final int INT_FJ = Enum.INT_FJ;
+    static final int INT_FK = Enum.INT_FK;
+    static final int INT_FL = Enum.INT_FL;
+    static final int INT_FM = Enum.INT_FM;
+    static final int INT_FO = Enum.INT_FO;
+    static final int INT_FP = Enum.INT_FP;
+    static final int INT_FR = Enum.INT_FR;
+    static final int INT_FS = Enum.INT_FS;
+    static final int INT_FT = Enum.INT_FT;
+    static final int INT_FZ = Enum.INT_FZ;
+    static final int INT_G_2 = Enum.INT_G_2;
+    static final int INT_G_3 = Enum.INT_G_3;
+    static final int INT_G_4 = Enum.INT_G_4;
+    static final int INT_G_5 = Enum.INT_G_5;
+    static final int INT_G_6 = Enum.INT_G_6;
+    static final int INT_G_7 = Enum.INT_G_7;
+    static final int INT_G_8 = Enum.INT_G_8;
+    static final int INT_G_9 = Enum.INT_G_9;
+    static final int INT_GA = Enum.INT_GA;
+    static final int INT_GB = Enum.INT_GB;
+    static final int INT_GC = Enum.INT_GC;
+    static final int INT_GD = Enum.INT_GD;
+    static final int INT_GE = Enum.INT_GE;
+    static final int INT_GF = Enum.INT_GF;
+    static final int INT_GG = Enum.INT_GG;
+    static final int INT_GH = Enum.INT_GH;
+    static final int INT_GI = Enum.INT_GI;
+    static final int INT_GJ = Enum.INT_GJ;
+    static final int INT_GK = Enum.INT_GK;
+    static final int INT_GL = Enum.INT_GL;
+    static final int INT_GM = Enum.INT_GM;
+    static final int INT_GN = Enum.INT_GN;
+    static final int INT_GO = Enum.INT_GO;
+    static final int INT_GP = Enum.INT_GP;
+    static final int INT_GQ = Enum.INT_GQ;
+    static final int INT_GR = Enum.INT_GR;
+    static final int INT_GS = Enum.INT_GS;
+    static final int INT_GT = Enum.INT_GT;
+    static final int INT_GU = Enum.INT_GU;
+    static final int INT_GV = Enum.INT_GV;
+    static final int INT_GW = Enum.INT_GW;
+    static final int INT_GX = Enum.INT_GX;
+    static final int INT_GY = Enum.INT_GY;
+    static final int INT_GZ = Enum.INT_GZ;
+    static final int INT_H_1 = Enum.INT_H_1;
+    static final int INT_H_2 = Enum.INT_H_2;
+    static final int INT_H_4 = Enum.INT_H_4;
+    static final int INT_HA = Enum.INT_HA;
+    static final int INT_HB = Enum.INT_HB;
+    static final int INT_HC = Enum.INT_HC;
+    static final int INT_HD = Enum.INT_HD;
+    static final int INT_HE = Enum.INT_HE;
+    static final int INT_HF = Enum.INT_HF;
+    static final int INT_HG = Enum.INT_HG;
+    static final int INT_HH = Enum.INT_HH;
+    static final int INT_HI = Enum.INT_HI;
+    static final int INT_HJ = Enum.INT_HJ;
+    static final int INT_HK = Enum.INT_HK;
+    static final int INT_HL = Enum.INT_HL;
+    static final int INT_HM = Enum.INT_HM;
+    static final int INT_HN = Enum.INT_HN;
+    static final int INT_HO = Enum.INT_HO;
+    static final int INT_HP = Enum.INT_HP;
+    static final int INT_HQ = Enum.INT_HQ;
+    static final int INT_HR = Enum.INT_HR;
+    static final int INT_HS = Enum.INT_HS;
+    static final int INT_HT = Enum.INT_HT;
+    static final int INT_HU = Enum.INT_HU;
+    static final int INT_HV = Enum.INT_HV;
+    static final int INT_HW = Enum.INT_HW;
+    static final int INT_HY = Enum.INT_HY;
+    static final int INT_HZ = Enum.INT_HZ;
+    static final int INT_IA = Enum.INT_IA;
+    static final int INT_IB = Enum.INT_IB;
+    static final int INT_IC = Enum.INT_IC;
+    static final int INT_IE = Enum.INT_IE;
+    static final int INT_IF = Enum.INT_IF;
+    static final int INT_IG = Enum.INT_IG;
+    static final int INT_IH = Enum.INT_IH;
+    static final int INT_II = Enum.INT_II;
+    static final int INT_IK = Enum.INT_IK;
+    static final int INT_IL = Enum.INT_IL;
+    static final int INT_IM = Enum.INT_IM;
+    static final int INT_IN = Enum.INT_IN;
+    static final int INT_IP = Enum.INT_IP;
+    static final int INT_IS = Enum.INT_IS;
+    static final int INT_IT = Enum.INT_IT;
+    static final int INT_IU = Enum.INT_IU;
+    static final int INT_IV = Enum.INT_IV;
+    static final int INT_IW = Enum.INT_IW;
+    static final int INT_J_2 = Enum.INT_J_2;
+    static final int INT_JA = Enum.INT_JA;
+    static final int INT_JB = Enum.INT_JB;
+    static final int INT_JE = Enum.INT_JE;
+    static final int INT_JG = Enum.INT_JG;
+    static final int INT_JK = Enum.INT_JK;
+    static final int INT_JM = Enum.INT_JM;
+    static final int INT_JO = Enum.INT_JO;
+    static final int INT_JR = Enum.INT_JR;
+    static final int INT_JU = Enum.INT_JU;
+    static final int INT_K_1 = Enum.INT_K_1;
+    static final int INT_K_2 = Enum.INT_K_2;
+    static final int INT_K_3 = Enum.INT_K_3;
+    static final int INT_K_4 = Enum.INT_K_4;
+    static final int INT_K_5 = Enum.INT_K_5;
+    static final int INT_K_6 = Enum.INT_K_6;
+    static final int INT_K_7 = Enum.INT_K_7;
+    static final int INT_K_9 = Enum.INT_K_9;
+    static final int INT_KA = Enum.INT_KA;
+    static final int INT_KB = Enum.INT_KB;
+    static final int INT_KC = Enum.INT_KC;
+    static final int INT_KD = Enum.INT_KD;
+    static final int INT_KE = Enum.INT_KE;
+    static final int INT_KF = Enum.INT_KF;
+    static final int INT_KG = Enum.INT_KG;
+    static final int INT_KH = Enum.INT_KH;
+    static final int INT_KI = Enum.INT_KI;
+    static final int INT_KJ = Enum.INT_KJ;
+    static final int INT_KK = Enum.INT_KK;
+    static final int INT_KL = Enum.INT_KL;
+    static final int INT_KM = Enum.INT_KM;
+    static final int INT_KO = Enum.INT_KO;
+    static final int INT_KP = Enum.INT_KP;
+    static final int INT_KQ = Enum.INT_KQ;
+    static final int INT_KR = Enum.INT_KR;
+    static final int INT_KT = Enum.INT_KT;
+    static final int INT_KU = Enum.INT_KU;
+    static final int INT_KV = Enum.INT_KV;
+    static final int INT_KW = Enum.INT_KW;
+    static final int INT_KX = Enum.INT_KX;
+    static final int INT_L_2 = Enum.INT_L_2;
+    static final int INT_LA = Enum.INT_LA;
+    static final int INT_LB = Enum.INT_LB;
+    static final int INT_LC = Enum.INT_LC;
+    static final int INT_LE = Enum.INT_LE;
+    static final int INT_LF = Enum.INT_LF;
+    static final int INT_LG = Enum.INT_LG;
+    static final int INT_LH = Enum.INT_LH;
+    static final int INT_LI = Enum.INT_LI;
+    static final int INT_LJ = Enum.INT_LJ;
+    static final int INT_LK = Enum.INT_LK;
+    static final int INT_LL = Enum.INT_LL;
+    static final int INT_LM = Enum.INT_LM;
+    static final int INT_LN = Enum.INT_LN;
+    static final int INT_LO = Enum.INT_LO;
+    static final int INT_LP = Enum.INT_LP;
+    static final int INT_LQ = Enum.INT_LQ;
+    static final int INT_LR = Enum.INT_LR;
+    static final int INT_LS = Enum.INT_LS;
+    static final int INT_LT = Enum.INT_LT;
+    static final int INT_LX = Enum.INT_LX;
+    static final int INT_LY = Enum.INT_LY;
+    static final int INT_M_0 = Enum.INT_M_0;
+    static final int INT_M_1 = Enum.INT_M_1;
+    static final int INT_M_2 = Enum.INT_M_2;
+    static final int INT_M_3 = Enum.INT_M_3;
+    static final int INT_M_4 = Enum.INT_M_4;
+    static final int INT_M_5 = Enum.INT_M_5;
+    static final int INT_M_6 = Enum.INT_M_6;
+    static final int INT_M_7 = Enum.INT_M_7;
+    static final int INT_M_8 = Enum.INT_M_8;
+    static final int INT_M_9 = Enum.INT_M_9;
+    static final int INT_MA = Enum.INT_MA;
+    static final int INT_MB = Enum.INT_MB;
+    static final int INT_MC = Enum.INT_MC;
+    static final int INT_MD = Enum.INT_MD;
+    static final int INT_ME = Enum.INT_ME;
+    static final int INT_MF = Enum.INT_MF;
+    static final int INT_MG = Enum.INT_MG;
+    static final int INT_MH = Enum.INT_MH;
+    static final int INT_MI = Enum.INT_MI;
+    static final int INT_MJ = Enum.INT_MJ;
+    static final int INT_MK = Enum.INT_MK;
+    static final int INT_ML = Enum.INT_ML;
+    static final int INT_MM = Enum.INT_MM;
+    static final int INT_MN = Enum.INT_MN;
+    static final int INT_MO = Enum.INT_MO;
+    static final int INT_MP = Enum.INT_MP;
+    static final int INT_MQ = Enum.INT_MQ;
+    static final int INT_MR = Enum.INT_MR;
+    static final int INT_MS = Enum.INT_MS;
+    static final int INT_MT = Enum.INT_MT;
+    static final int INT_MU = Enum.INT_MU;
+    static final int INT_MV = Enum.INT_MV;
+    static final int INT_MW = Enum.INT_MW;
+    static final int INT_MX = Enum.INT_MX;
+    static final int INT_MY = Enum.INT_MY;
+    static final int INT_MZ = Enum.INT_MZ;
+    static final int INT_N_1 = Enum.INT_N_1;
+    static final int INT_N_2 = Enum.INT_N_2;
+    static final int INT_N_3 = Enum.INT_N_3;
+    static final int INT_N_4 = Enum.INT_N_4;
+    static final int INT_N_6 = Enum.INT_N_6;
+    static final int INT_N_7 = Enum.INT_N_7;
+    static final int INT_N_9 = Enum.INT_N_9;
+    static final int INT_NA = Enum.INT_NA;
+    static final int INT_NB = Enum.INT_NB;
+    static final int INT_NC = Enum.INT_NC;
+    static final int INT_ND = Enum.INT_ND;
+    static final int INT_NE = Enum.INT_NE;
+    static final int INT_NF = Enum.INT_NF;
+    static final int INT_NG = Enum.INT_NG;
+    static final int INT_NH = Enum.INT_NH;
+    static final int INT_NI = Enum.INT_NI;
+    static final int INT_NJ = Enum.INT_NJ;
+    static final int INT_NK = Enum.INT_NK;
+    static final int INT_NL = Enum.INT_NL;
+    static final int INT_NM = Enum.INT_NM;
+    static final int INT_NN = Enum.INT_NN;
+    static final int INT_NQ = Enum.INT_NQ;
+    static final int INT_NR = Enum.INT_NR;
+    static final int INT_NS = Enum.INT_NS;
+    static final int INT_NT = Enum.INT_NT;
+    static final int INT_NU = Enum.INT_NU;
+    static final int INT_NV = Enum.INT_NV;
+    static final int INT_NW = Enum.INT_NW;
+    static final int INT_NX = Enum.INT_NX;
+    static final int INT_NY = Enum.INT_NY;
+    static final int INT_OA = Enum.INT_OA;
+    static final int INT_OC = Enum.INT_OC;
+    static final int INT_ON = Enum.INT_ON;
+    static final int INT_OP = Enum.INT_OP;
+    static final int INT_OT = Enum.INT_OT;
+    static final int INT_OZ = Enum.INT_OZ;
+    static final int INT_P_0 = Enum.INT_P_0;
+    static final int INT_P_1 = Enum.INT_P_1;
+    static final int INT_P_2 = Enum.INT_P_2;
+    static final int INT_P_3 = Enum.INT_P_3;
+    static final int INT_P_4 = Enum.INT_P_4;
+    static final int INT_P_5 = Enum.INT_P_5;
+    static final int INT_P_6 = Enum.INT_P_6;
+    static final int INT_P_7 = Enum.INT_P_7;
+    static final int INT_P_8 = Enum.INT_P_8;
+    static final int INT_P_9 = Enum.INT_P_9;
+    static final int INT_PA = Enum.INT_PA;
+    static final int INT_PB = Enum.INT_PB;
+    static final int INT_PC = Enum.INT_PC;
+    static final int INT_PD = Enum.INT_PD;
+    static final int INT_PE = Enum.INT_PE;
+    static final int INT_PF = Enum.INT_PF;
+    static final int INT_PG = Enum.INT_PG;
+    static final int INT_PH = Enum.INT_PH;
+    static final int INT_PI = Enum.INT_PI;
+    static final int INT_PJ = Enum.INT_PJ;
+    static final int INT_PK = Enum.INT_PK;
+    static final int INT_PL = Enum.INT_PL;
+    static final int INT_PM = Enum.INT_PM;
+    static final int INT_PN = Enum.INT_PN;
+    static final int INT_PO = Enum.INT_PO;
+    static final int INT_PP = Enum.INT_PP;
+    static final int INT_PQ = Enum.INT_PQ;
+    static final int INT_PR = Enum.INT_PR;
+    static final int INT_PS = Enum.INT_PS;
+    static final int INT_PT = Enum.INT_PT;
+    static final int INT_PU = Enum.INT_PU;
+    static final int INT_PV = Enum.INT_PV;
+    static final int INT_PW = Enum.INT_PW;
+    static final int INT_PX = Enum.INT_PX;
+    static final int INT_PY = Enum.INT_PY;
+    static final int INT_PZ = Enum.INT_PZ;
+    static final int INT_Q_1 = Enum.INT_Q_1;
+    static final int INT_Q_2 = Enum.INT_Q_2;
+    static final int INT_Q_3 = Enum.INT_Q_3;
+    static final int INT_Q_4 = Enum.INT_Q_4;
+    static final int INT_Q_5 = Enum.INT_Q_5;
+    static final int INT_Q_6 = Enum.INT_Q_6;
+    static final int INT_Q_7 = Enum.INT_Q_7;
+    static final int INT_QA = Enum.INT_QA;
+    static final int INT_QB = Enum.INT_QB;
+    static final int INT_QC = Enum.INT_QC;
+    static final int INT_QD = Enum.INT_QD;
+    static final int INT_QE = Enum.INT_QE;
+    static final int INT_QH = Enum.INT_QH;
+    static final int INT_QK = Enum.INT_QK;
+    static final int INT_QR = Enum.INT_QR;
+    static final int INT_QS = Enum.INT_QS;
+    static final int INT_QT = Enum.INT_QT;
+    static final int INT_QU = Enum.INT_QU;
+    static final int INT_R_1 = Enum.INT_R_1;
+    static final int INT_R_2 = Enum.INT_R_2;
+    static final int INT_R_3 = Enum.INT_R_3;
+    static final int INT_R_4 = Enum.INT_R_4;
+    static final int INT_R_5 = Enum.INT_R_5;
+    static final int INT_R_6 = Enum.INT_R_6;
+    static final int INT_R_7 = Enum.INT_R_7;
+    static final int INT_R_8 = Enum.INT_R_8;
+    static final int INT_R_9 = Enum.INT_R_9;
+    static final int INT_RA = Enum.INT_RA;
+    static final int INT_RB = Enum.INT_RB;
+    static final int INT_RC = Enum.INT_RC;
+    static final int INT_RD = Enum.INT_RD;
+    static final int INT_RE = Enum.INT_RE;
+    static final int INT_RG = Enum.INT_RG;
+    static final int INT_RH = Enum.INT_RH;
+    static final int INT_RK = Enum.INT_RK;
+    static final int INT_RL = Enum.INT_RL;
+    static final int INT_RM = Enum.INT_RM;
+    static final int INT_RN = Enum.INT_RN;
+    static final int INT_RO = Enum.INT_RO;
+    static final int INT_RP = Enum.INT_RP;
+    static final int INT_RS = Enum.INT_RS;
+    static final int INT_RT = Enum.INT_RT;
+    static final int INT_RU = Enum.INT_RU;
+    static final int INT_S_1 = Enum.INT_S_1;
+    static final int INT_S_2 = Enum.INT_S_2;
+    static final int INT_S_3 = Enum.INT_S_3;
+    static final int INT_S_4 = Enum.INT_S_4;
+    static final int INT_S_5 = Enum.INT_S_5;
+    static final int INT_S_6 = Enum.INT_S_6;
+    static final int INT_S_7 = Enum.INT_S_7;
+    static final int INT_S_8 = Enum.INT_S_8;
+    static final int INT_S_9 = Enum.INT_S_9;
+    static final int INT_SA = Enum.INT_SA;
+    static final int INT_SB = Enum.INT_SB;
+    static final int INT_SC = Enum.INT_SC;
+    static final int INT_SD = Enum.INT_SD;
+    static final int INT_SE = Enum.INT_SE;
+    static final int INT_SF = Enum.INT_SF;
+    static final int INT_SG = Enum.INT_SG;
+    static final int INT_SH = Enum.INT_SH;
+    static final int INT_SI = Enum.INT_SI;
+    static final int INT_SJ = Enum.INT_SJ;
+    static final int INT_SK = Enum.INT_SK;
+    static final int INT_SL = Enum.INT_SL;
+    static final int INT_SM = Enum.INT_SM;
+    static final int INT_SN = Enum.INT_SN;
+    static final int INT_SO = Enum.INT_SO;
+    static final int INT_SP = Enum.INT_SP;
+    static final int INT_SQ = Enum.INT_SQ;
+    static final int INT_SR = Enum.INT_SR;
+    static final int INT_SS = Enum.INT_SS;
+    static final int INT_ST = Enum.INT_ST;
+    static final int INT_SV = Enum.INT_SV;
+    static final int INT_SW = Enum.INT_SW;
+    static final int INT_SX = Enum.INT_SX;
+    static final int INT_SY = Enum.INT_SY;
+    static final int INT_SZ = Enum.INT_SZ;
+    static final int INT_T_0 = Enum.INT_T_0;
+    static final int INT_T_1 = Enum.INT_T_1;
+    static final int INT_T_2 = Enum.INT_T_2;
+    static final int INT_T_3 = Enum.INT_T_3;
+    static final int INT_T_4 = Enum.INT_T_4;
+    static final int INT_T_5 = Enum.INT_T_5;
+    static final int INT_T_6 = Enum.INT_T_6;
+    static final int INT_T_7 = Enum.INT_T_7;
+    static final int INT_T_8 = Enum.INT_T_8;
+    static final int INT_T_9 = Enum.INT_T_9;
+    static final int INT_TA = Enum.INT_TA;
+    static final int INT_TB = Enum.INT_TB;
+    static final int INT_TC = Enum.INT_TC;
+    static final int INT_TD = Enum.INT_TD;
+    static final int INT_TE = Enum.INT_TE;
+    static final int INT_TF = Enum.INT_TF;
+    static final int INT_TG = Enum.INT_TG;
+    static final int INT_TH = Enum.INT_TH;
+    static final int INT_TI = Enum.INT_TI;
+    static final int INT_TJ = Enum.INT_TJ;
+    static final int INT_TK = Enum.INT_TK;
+    static final int INT_TL = Enum.INT_TL;
+    static final int INT_TM = Enum.INT_TM;
+    static final int INT_TN = Enum.INT_TN;
+    static final int INT_TO = Enum.INT_TO;
+    static final int INT_TP = Enum.INT_TP;
+    static final int INT_TQ = Enum.INT_TQ;
+    static final int INT_TR = Enum.INT_TR;
+    static final int INT_TS = Enum.INT_TS;
+    static final int INT_TT = Enum.INT_TT;
+    static final int INT_TU = Enum.INT_TU;
+    static final int INT_TV = Enum.INT_TV;
+    static final int INT_TW = Enum.INT_TW;
+    static final int INT_TX = Enum.INT_TX;
+    static final int INT_TY = Enum.INT_TY;
+    static final int INT_TZ = Enum.INT_TZ;
+    static final int INT_U_1 = Enum.INT_U_1;
+    static final int INT_U_2 = Enum.INT_U_2;
+    static final int INT_U_3 = Enum.INT_U_3;
+    static final int INT_U_5 = Enum.INT_U_5;
+    static final int INT_UA = Enum.INT_UA;
+    static final int INT_UB = Enum.INT_UB;
+    static final int INT_UC = Enum.INT_UC;
+    static final int INT_UD = Enum.INT_UD;
+    static final int INT_UE = Enum.INT_UE;
+    static final int INT_UF = Enum.INT_UF;
+    static final int INT_UH = Enum.INT_UH;
+    static final int INT_UL = Enum.INT_UL;
+    static final int INT_UM = Enum.INT_UM;
+    static final int INT_UN = Enum.INT_UN;
+    static final int INT_UP = Enum.INT_UP;
+    static final int INT_UQ = Enum.INT_UQ;
+    static final int INT_UR = Enum.INT_UR;
+    static final int INT_US = Enum.INT_US;
+    static final int INT_UT = Enum.INT_UT;
+    static final int INT_UU = Enum.INT_UU;
+    static final int INT_UV = Enum.INT_UV;
+    static final int INT_UW = Enum.INT_UW;
+    static final int INT_UX = Enum.INT_UX;
+    static final int INT_UY = Enum.INT_UY;
+    static final int INT_UZ = Enum.INT_UZ;
+    static final int INT_V_1 = Enum.INT_V_1;
+    static final int INT_V_2 = Enum.INT_V_2;
+    static final int INT_VA = Enum.INT_VA;
+    static final int INT_VC = Enum.INT_VC;
+    static final int INT_VI = Enum.INT_VI;
+    static final int INT_VP = Enum.INT_VP;
+    static final int INT_VR = Enum.INT_VR;
+    static final int INT_VS = Enum.INT_VS;
+    static final int INT_W_2 = Enum.INT_W_2;
+    static final int INT_WA = Enum.INT_WA;
+    static final int INT_WB = Enum.INT_WB;
+    static final int INT_WD = Enum.INT_WD;
+    static final int INT_WE = Enum.INT_WE;
+    static final int INT_WG = Enum.INT_WG;
+    static final int INT_WH = Enum.INT_WH;
+    static final int INT_WI = Enum.INT_WI;
+    static final int INT_WK = Enum.INT_WK;
+    static final int INT_WM = Enum.INT_WM;
+    static final int INT_WP = Enum.INT_WP;
+    static final int INT_WR = Enum.INT_WR;
+    static final int INT_WW = Enum.INT_WW;
+    static final int INT_X_1 = Enum.INT_X_1;
+    static final int INT_X_2 = Enum.INT_X_2;
+    static final int INT_X_3 = Enum.INT_X_3;
+    static final int INT_X_4 = Enum.INT_X_4;
+    static final int INT_X_5 = Enum.INT_X_5;
+    static final int INT_X_6 = Enum.INT_X_6;
+    static final int INT_X_7 = Enum.INT_X_7;
+    static final int INT_X_8 = Enum.INT_X_8;
+    static final int INT_X_9 = Enum.INT_X_9;
+    static final int INT_XP = Enum.INT_XP;
+    static final int INT_Y_1 = Enum.INT_Y_1;
+    static final int INT_Y_2 = Enum.INT_Y_2;
+    static final int INT_Y_3 = Enum.INT_Y_3;
+    static final int INT_Y_4 = Enum.INT_Y_4;
+    static final int INT_YD = Enum.INT_YD;
+    static final int INT_YL = Enum.INT_YL;
+    static final int INT_YR = Enum.INT_YR;
+    static final int INT_YT = Enum.INT_YT;
+    static final int INT_Z_1 = Enum.INT_Z_1;
+    static final int INT_Z_2 = Enum.INT_Z_2;
+    static final int INT_Z_3 = Enum.INT_Z_3;
+    static final int INT_Z_4 = Enum.INT_Z_4;
+    static final int INT_Z_5 = Enum.INT_Z_5;
+    static final int INT_Z_6 = Enum.INT_Z_6;
+    static final int INT_Z_8 = Enum.INT_Z_8;
+    static final int INT_ZA = Enum.INT_ZA;
+    static final int INT_ZB = Enum.INT_ZB;
+    static final int INT_ZC = Enum.INT_ZC;
+    static final int INT_ZD = Enum.INT_ZD;
+    static final int INT_ZE = Enum.INT_ZE;
+    static final int INT_ZP = Enum.INT_ZP;
+    static final int INT_ZZ = Enum.INT_ZZ;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList355.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_X_01
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_X_01 = 1;
+        static final int INT_X_02 = 2;
+        static final int INT_X_03 = 3;
+        static final int INT_X_04 = 4;
+        static final int INT_X_05 = 5;
+        static final int INT_X_06 = 6;
+        static final int INT_X_07 = 7;
+        static final int INT_X_08 = 8;
+        static final int INT_X_09 = 9;
+        static final int INT_X_10 = 10;
+        static final int INT_X_11 = 11;
+        static final int INT_X_12 = 12;
+        static final int INT_X_13 = 13;
+        static final int INT_X_14 = 14;
+        static final int INT_X_15 = 15;
+        static final int INT_X_16 = 16;
+        static final int INT_X_17 = 17;
+        static final int INT_X_18 = 18;
+        static final int INT_X_19 = 19;
+        static final int INT_X_1_A = 20;
+        static final int INT_X_1_B = 21;
+        static final int INT_X_1_C = 22;
+        static final int INT_X_1_D = 23;
+        static final int INT_X_1_E = 24;
+        static final int INT_X_1_F = 25;
+        static final int INT_X_1_G = 26;
+        static final int INT_X_1_H = 27;
+        static final int INT_X_1_I = 28;
+        static final int INT_X_1_J = 29;
+        static final int INT_X_1_K = 30;
+        static final int INT_X_1_L = 31;
+        static final int INT_X_1_M = 32;
+        static final int INT_X_1_N = 33;
+        static final int INT_X_1_O = 34;
+        static final int INT_X_1_P = 35;
+        static final int INT_X_1_Q = 36;
+        static final int INT_X_1_R = 37;
+        static final int INT_X_1_X = 38;
+        static final int INT_X_20 = 39;
+        static final int INT_X_21 = 40;
+        static final int INT_X_22 = 41;
+        static final int INT_X_23 = 42;
+        static final int INT_X_24 = 43;
+        static final int INT_X_25 = 44;
+        static final int INT_X_26 = 45;
+        static final int INT_X_27 = 46;
+        static final int INT_X_28 = 47;
+        static final int INT_X_29 = 48;
+        static final int INT_X_2_A = 49;
+        static final int INT_X_2_B = 50;
+        static final int INT_X_2_C = 51;
+        static final int INT_X_2_D = 52;
+        static final int INT_X_2_F = 53;
+        static final int INT_X_2_G = 54;
+        static final int INT_X_2_H = 55;
+        static final int INT_X_2_I = 56;
+        static final int INT_X_2_J = 57;
+        static final int INT_X_2_K = 58;
+        static final int INT_X_2_L = 59;
+        static final int INT_X_2_M = 60;
+        static final int INT_X_2_N = 61;
+        static final int INT_X_2_P = 62;
+        static final int INT_X_2_Q = 63;
+        static final int INT_X_2_R = 64;
+        static final int INT_X_2_U = 65;
+        static final int INT_X_2_V = 66;
+        static final int INT_X_2_W = 67;
+        static final int INT_X_2_X = 68;
+        static final int INT_X_2_Y = 69;
+        static final int INT_X_2_Z = 70;
+        static final int INT_X_30 = 71;
+        static final int INT_X_31 = 72;
+        static final int INT_X_32 = 73;
+        static final int INT_X_33 = 74;
+        static final int INT_X_34 = 75;
+        static final int INT_X_35 = 76;
+        static final int INT_X_36 = 77;
+        static final int INT_X_37 = 78;
+        static final int INT_X_38 = 79;
+        static final int INT_X_39 = 80;
+        static final int INT_X_3_B = 81;
+        static final int INT_X_3_C = 82;
+        static final int INT_X_3_E = 83;
+        static final int INT_X_3_F = 84;
+        static final int INT_X_3_G = 85;
+        static final int INT_X_3_H = 86;
+        static final int INT_X_3_I = 87;
+        static final int INT_X_40 = 88;
+        static final int INT_X_41 = 89;
+        static final int INT_X_43 = 90;
+        static final int INT_X_44 = 91;
+        static final int INT_X_45 = 92;
+        static final int INT_X_46 = 93;
+        static final int INT_X_47 = 94;
+        static final int INT_X_48 = 95;
+        static final int INT_X_4_A = 96;
+        static final int INT_X_4_B = 97;
+        static final int INT_X_4_C = 98;
+        static final int INT_X_4_D = 99;
+        static final int INT_X_4_E = 100;
+        static final int INT_X_4_F = 101;
+        static final int INT_X_4_G = 102;
+        static final int INT_X_4_I = 103;
+        static final int INT_X_4_J = 104;
+        static final int INT_X_4_K = 105;
+        static final int INT_X_4_L = 106;
+        static final int INT_X_4_M = 107;
+        static final int INT_X_4_N = 108;
+        static final int INT_X_4_O = 109;
+        static final int INT_X_4_P = 110;
+        static final int INT_X_4_Q = 111;
+        static final int INT_X_4_R = 112;
+        static final int INT_X_4_S = 113;
+        static final int INT_X_4_T = 114;
+        static final int INT_X_4_U = 115;
+        static final int INT_X_4_V = 116;
+        static final int INT_X_4_W = 117;
+        static final int INT_X_4_X = 118;
+        static final int INT_X_50 = 119;
+        static final int INT_X_51 = 120;
+        static final int INT_X_52 = 121;
+        static final int INT_X_53 = 122;
+        static final int INT_X_54 = 123;
+        static final int INT_X_56 = 124;
+        static final int INT_X_57 = 125;
+        static final int INT_X_58 = 126;
+        static final int INT_X_59 = 127;
+        static final int INT_X_5_A = 128;
+        static final int INT_X_5_B = 129;
+        static final int INT_X_5_C = 130;
+        static final int INT_X_5_D = 131;
+        static final int INT_X_5_E = 132;
+        static final int INT_X_5_F = 133;
+        static final int INT_X_5_G = 134;
+        static final int INT_X_5_H = 135;
+        static final int INT_X_5_I = 136;
+        static final int INT_X_5_J = 137;
+        static final int INT_X_5_K = 138;
+        static final int INT_X_5_P = 139;
+        static final int INT_X_5_Q = 140;
+        static final int INT_X_60 = 141;
+        static final int INT_X_61 = 142;
+        static final int INT_X_62 = 143;
+        static final int INT_X_63 = 144;
+        static final int INT_X_64 = 145;
+        static final int INT_X_65 = 146;
+        static final int INT_X_66 = 147;
+        static final int INT_X_67 = 148;
+        static final int INT_X_68 = 149;
+        static final int INT_X_69 = 150;
+        static final int INT_X_70 = 151;
+        static final int INT_X_71 = 152;
+        static final int INT_X_72 = 153;
+        static final int INT_X_73 = 154;
+        static final int INT_X_74 = 155;
+        static final int INT_X_76 = 156;
+        static final int INT_X_77 = 157;
+        static final int INT_X_78 = 158;
+        static final int INT_X_79 = 159;
+        static final int INT_X_80 = 160;
+        static final int INT_X_81 = 161;
+        static final int INT_X_82 = 162;
+        static final int INT_X_83 = 163;
+        static final int INT_X_84 = 164;
+        static final int INT_X_85 = 165;
+        static final int INT_X_86 = 166;
+        static final int INT_X_87 = 167;
+        static final int INT_X_89 = 168;
+        static final int INT_X_8_C = 169;
+        static final int INT_X_8_D = 170;
+        static final int INT_X_8_P = 171;
+        static final int INT_X_8_R = 172;
+        static final int INT_X_8_S = 173;
+        static final int INT_X_8_U = 174;
+        static final int INT_X_90 = 175;
+        static final int INT_X_91 = 176;
+        static final int INT_X_92 = 177;
+        static final int INT_X_93 = 178;
+        static final int INT_X_94 = 179;
+        static final int INT_X_95 = 180;
+        static final int INT_X_96 = 181;
+        static final int INT_X_97 = 182;
+        static final int INT_X_98 = 183;
+        static final int INT_X_99 = 184;
+        static final int INT_A_8 = 185;
+        static final int INT_AA = 186;
+        static final int INT_AB = 187;
+        static final int INT_AC = 188;
+        static final int INT_AD = 189;
+        static final int INT_AE = 190;
+        static final int INT_AF = 191;
+        static final int INT_AG = 192;
+        static final int INT_AH = 193;
+        static final int INT_AI = 194;
+        static final int INT_AJ = 195;
+        static final int INT_AK = 196;
+        static final int INT_AL = 197;
+        static final int INT_AM = 198;
+        static final int INT_AN = 199;
+        static final int INT_AO = 200;
+        static final int INT_AP = 201;
+        static final int INT_AQ = 202;
+        static final int INT_AR = 203;
+        static final int INT_AS = 204;
+        static final int INT_AT = 205;
+        static final int INT_AU = 206;
+        static final int INT_AV = 207;
+        static final int INT_AW = 208;
+        static final int INT_AX = 209;
+        static final int INT_AY = 210;
+        static final int INT_AZ = 211;
+        static final int INT_B_0 = 212;
+        static final int INT_B_1 = 213;
+        static final int INT_B_2 = 214;
+        static final int INT_B_3 = 215;
+        static final int INT_B_4 = 216;
+        static final int INT_B_5 = 217;
+        static final int INT_B_6 = 218;
+        static final int INT_B_7 = 219;
+        static final int INT_B_8 = 220;
+        static final int INT_B_9 = 221;
+        static final int INT_BA = 222;
+        static final int INT_BB = 223;
+        static final int INT_BC = 224;
+        static final int INT_BD = 225;
+        static final int INT_BE = 226;
+        static final int INT_BF = 227;
+        static final int INT_BG = 228;
+        static final int INT_BH = 229;
+        static final int INT_BI = 230;
+        static final int INT_BJ = 231;
+        static final int INT_BK = 232;
+        static final int INT_BL = 233;
+        static final int INT_BM = 234;
+        static final int INT_BN = 235;
+        static final int INT_BO = 236;
+        static final int INT_BP = 237;
+        static final int INT_BQ = 238;
+        static final int INT_BR = 239;
+        static final int INT_BS = 240;
+        static final int INT_BT = 241;
+        static final int INT_BU = 242;
+        static final int INT_BV = 243;
+        static final int INT_BW = 244;
+        static final int INT_BX = 245;
+        static final int INT_BY = 246;
+        static final int INT_BZ = 247;
+        static final int INT_C_0 = 248;
+        static final int INT_C_1 = 249;
+        static final int INT_C_2 = 250;
+        static final int INT_C_3 = 251;
+        static final int INT_C_4 = 252;
+        static final int INT_C_5 = 253;
+        static final int INT_C_6 = 254;
+        static final int INT_C_7 = 255;
+        static final int INT_C_8 = 256;
+        static final int INT_C_9 = 257;
+        static final int INT_CA = 258;
+        static final int INT_CB = 259;
+        static final int INT_CC = 260;
+        static final int INT_CD = 261;
+        static final int INT_CE = 262;
+        static final int INT_CF = 263;
+        static final int INT_CG = 264;
+        static final int INT_CH = 265;
+        static final int INT_CI = 266;
+        static final int INT_CJ = 267;
+        static final int INT_CK = 268;
+        static final int INT_CL = 269;
+        static final int INT_CM = 270;
+        static final int INT_CN = 271;
+        static final int INT_CO = 272;
+        static final int INT_CP = 273;
+        static final int INT_CQ = 274;
+        static final int INT_CR = 275;
+        static final int INT_CS = 276;
+        static final int INT_CT = 277;
+        static final int INT_CU = 278;
+        static final int INT_CV = 279;
+        static final int INT_CW = 280;
+        static final int INT_CX = 281;
+        static final int INT_CY = 282;
+        static final int INT_CZ = 283;
+        static final int INT_D_1 = 284;
+        static final int INT_D_2 = 285;
+        static final int INT_D_3 = 286;
+        static final int INT_D_5 = 287;
+        static final int INT_D_8 = 288;
+        static final int INT_D_9 = 289;
+        static final int INT_DA = 290;
+        static final int INT_DB = 291;
+        static final int INT_DC = 292;
+        static final int INT_DD = 293;
+        static final int INT_DE = 294;
+        static final int INT_DF = 295;
+        static final int INT_DG = 296;
+        static final int INT_DH = 297;
+        static final int INT_DI = 298;
+        static final int INT_DJ = 299;
+        static final int INT_DK = 300;
+        static final int INT_DL = 301;
+        static final int INT_DM = 302;
+        static final int INT_DN = 303;
+        static final int INT_DO = 304;
+        static final int INT_DP = 305;
+        static final int INT_DQ = 306;
+        static final int INT_DR = 307;
+        static final int INT_DS = 308;
+        static final int INT_DT = 309;
+        static final int INT_DU = 310;
+        static final int INT_DW = 311;
+        static final int INT_DX = 312;
+        static final int INT_DY = 313;
+        static final int INT_DZ = 314;
+        static final int INT_E_1 = 315;
+        static final int INT_E_3 = 316;
+        static final int INT_E_4 = 317;
+        static final int INT_E_5 = 318;
+        static final int INT_E_7 = 319;
+        static final int INT_E_8 = 320;
+        static final int INT_E_9 = 321;
+        static final int INT_EA = 322;
+        static final int INT_EB = 323;
+        static final int INT_EC = 324;
+        static final int INT_ED = 325;
+        static final int INT_EE = 326;
+        static final int INT_EF = 327;
+        static final int INT_EG = 328;
+        static final int INT_EH = 329;
+        static final int INT_EJ = 330;
+        static final int INT_EM = 331;
+        static final int INT_EP = 332;
+        static final int INT_EQ = 333;
+        static final int INT_EV = 334;
+        static final int INT_EX = 335;
+        static final int INT_EY = 336;
+        static final int INT_EZ = 337;
+        static final int INT_F_1 = 338;
+        static final int INT_F_2 = 339;
+        static final int INT_F_3 = 340;
+        static final int INT_F_4 = 341;
+        static final int INT_F_5 = 342;
+        static final int INT_F_6 = 343;
+        static final int INT_F_9 = 344;
+        static final int INT_FA = 345;
+        static final int INT_FB = 346;
+        static final int INT_FC = 347;
+        static final int INT_FD = 348;
+        static final int INT_FE = 349;
+        static final int INT_FF = 350;
+        static final int INT_FG = 351;
+        static final int INT_FH = 352;
+        static final int INT_FJ = 353;
+        static final int INT_FK = 354;
+        static final int INT_FL = 355;
+        static final int INT_FM = 356;
+        static final int INT_FO = 357;
+        static final int INT_FP = 358;
+        static final int INT_FR = 359;
+        static final int INT_FS = 360;
+        static final int INT_FT = 361;
+        static final int INT_FZ = 362;
+        static final int INT_G_2 = 363;
+        static final int INT_G_3 = 364;
+        static final int INT_G_4 = 365;
+        static final int INT_G_5 = 366;
+        static final int INT_G_6 = 367;
+        static final int INT_G_7 = 368;
+        static final int INT_G_8 = 369;
+        static final int INT_G_9 = 370;
+        static final int INT_GA = 371;
+        static final int INT_GB = 372;
+        static final int INT_GC = 373;
+        static final int INT_GD = 374;
+        static final int INT_GE = 375;
+        static final int INT_GF = 376;
+        static final int INT_GG = 377;
+        static final int INT_GH = 378;
+        static final int INT_GI = 379;
+        static final int INT_GJ = 380;
+        static final int INT_GK = 381;
+        static final int INT_GL = 382;
+        static final int INT_GM = 383;
+        static final int INT_GN = 384;
+        static final int INT_GO = 385;
+        static final int INT_GP = 386;
+        static final int INT_GQ = 387;
+        static final int INT_GR = 388;
+        static final int INT_GS = 389;
+        static final int INT_GT = 390;
+        static final int INT_GU = 391;
+        static final int INT_GV = 392;
+        static final int INT_GW = 393;
+        static final int INT_GX = 394;
+        static final int INT_GY = 395;
+        static final int INT_GZ = 396;
+        static final int INT_H_1 = 397;
+        static final int INT_H_2 = 398;
+        static final int INT_H_4 = 399;
+        static final int INT_HA = 400;
+        static final int INT_HB = 401;
+        static final int INT_HC = 402;
+        static final int INT_HD = 403;
+        static final int INT_HE = 404;
+        static final int INT_HF = 405;
+        static final int INT_HG = 406;
+        static final int INT_HH = 407;
+        static final int INT_HI = 408;
+        static final int INT_HJ = 409;
+        static final int INT_HK = 410;
+        static final int INT_HL = 411;
+        static final int INT_HM = 412;
+        static final int INT_HN = 413;
+        static final int INT_HO = 414;
+        static final int INT_HP = 415;
+        static final int INT_HQ = 416;
+        static final int INT_HR = 417;
+        static final int INT_HS = 418;
+        static final int INT_HT = 419;
+        static final int INT_HU = 420;
+        static final int INT_HV = 421;
+        static final int INT_HW = 422;
+        static final int INT_HY = 423;
+        static final int INT_HZ = 424;
+        static final int INT_IA = 425;
+        static final int INT_IB = 426;
+        static final int INT_IC = 427;
+        static final int INT_IE = 428;
+        static final int INT_IF = 429;
+        static final int INT_IG = 430;
+        static final int INT_IH = 431;
+        static final int INT_II = 432;
+        static final int INT_IK = 433;
+        static final int INT_IL = 434;
+        static final int INT_IM = 435;
+        static final int INT_IN = 436;
+        static final int INT_IP = 437;
+        static final int INT_IS = 438;
+        static final int INT_IT = 439;
+        static final int INT_IU = 440;
+        static final int INT_IV = 441;
+        static final int INT_IW = 442;
+        static final int INT_J_2 = 443;
+        static final int INT_JA = 444;
+        static final int INT_JB = 445;
+        static final int INT_JE = 446;
+        static final int INT_JG = 447;
+        static final int INT_JK = 448;
+        static final int INT_JM = 449;
+        static final int INT_JO = 450;
+        static final int INT_JR = 451;
+        static final int INT_JU = 452;
+        static final int INT_K_1 = 453;
+        static final int INT_K_2 = 454;
+        static final int INT_K_3 = 455;
+        static final int INT_K_4 = 456;
+        static final int INT_K_5 = 457;
+        static final int INT_K_6 = 458;
+        static final int INT_K_7 = 459;
+        static final int INT_K_9 = 460;
+        static final int INT_KA = 461;
+        static final int INT_KB = 462;
+        static final int INT_KC = 463;
+        static final int INT_KD = 464;
+        static final int INT_KE = 465;
+        static final int INT_KF = 466;
+        static final int INT_KG = 467;
+        static final int INT_KH = 468;
+        static final int INT_KI = 469;
+        static final int INT_KJ = 470;
+        static final int INT_KK = 471;
+        static final int INT_KL = 472;
+        static final int INT_KM = 473;
+        static final int INT_KO = 474;
+        static final int INT_KP = 475;
+        static final int INT_KQ = 476;
+        static final int INT_KR = 477;
+        static final int INT_KT = 478;
+        static final int INT_KU = 479;
+        static final int INT_KV = 480;
+        static final int INT_KW = 481;
+        static final int INT_KX = 482;
+        static final int INT_L_2 = 483;
+        static final int INT_LA = 484;
+        static final int INT_LB = 485;
+        static final int INT_LC = 486;
+        static final int INT_LE = 487;
+        static final int INT_LF = 488;
+        static final int INT_LG = 489;
+        static final int INT_LH = 490;
+        static final int INT_LI = 491;
+        static final int INT_LJ = 492;
+        static final int INT_LK = 493;
+        static final int INT_LL = 494;
+        static final int INT_LM = 495;
+        static final int INT_LN = 496;
+        static final int INT_LO = 497;
+        static final int INT_LP = 498;
+        static final int INT_LQ = 499;
+        static final int INT_LR = 500;
+        static final int INT_LS = 501;
+        static final int INT_LT = 502;
+        static final int INT_LX = 503;
+        static final int INT_LY = 504;
+        static final int INT_M_0 = 505;
+        static final int INT_M_1 = 506;
+        static final int INT_M_2 = 507;
+        static final int INT_M_3 = 508;
+        static final int INT_M_4 = 509;
+        static final int INT_M_5 = 510;
+        static final int INT_M_6 = 511;
+        static final int INT_M_7 = 512;
+        static final int INT_M_8 = 513;
+        static final int INT_M_9 = 514;
+        static final int INT_MA = 515;
+        static final int INT_MB = 516;
+        static final int INT_MC = 517;
+        static final int INT_MD = 518;
+        static final int INT_ME = 519;
+        static final int INT_MF = 520;
+        static final int INT_MG = 521;
+        static final int INT_MH = 522;
+        static final int INT_MI = 523;
+        static final int INT_MJ = 524;
+        static final int INT_MK = 525;
+        static final int INT_ML = 526;
+        static final int INT_MM = 527;
+        static final int INT_MN = 528;
+        static final int INT_MO = 529;
+        static final int INT_MP = 530;
+        static final int INT_MQ = 531;
+        static final int INT_MR = 532;
+        static final int INT_MS = 533;
+        static final int INT_MT = 534;
+        static final int INT_MU = 535;
+        static final int INT_MV = 536;
+        static final int INT_MW = 537;
+        static final int INT_MX = 538;
+        static final int INT_MY = 539;
+        static final int INT_MZ = 540;
+        static final int INT_N_1 = 541;
+        static final int INT_N_2 = 542;
+        static final int INT_N_3 = 543;
+        static final int INT_N_4 = 544;
+        static final int INT_N_6 = 545;
+        static final int INT_N_7 = 546;
+        static final int INT_N_9 = 547;
+        static final int INT_NA = 548;
+        static final int INT_NB = 549;
+        static final int INT_NC = 550;
+        static final int INT_ND = 551;
+        static final int INT_NE = 552;
+        static final int INT_NF = 553;
+        static final int INT_NG = 554;
+        static final int INT_NH = 555;
+        static final int INT_NI = 556;
+        static final int INT_NJ = 557;
+        static final int INT_NK = 558;
+        static final int INT_NL = 559;
+        static final int INT_NM = 560;
+        static final int INT_NN = 561;
+        static final int INT_NQ = 562;
+        static final int INT_NR = 563;
+        static final int INT_NS = 564;
+        static final int INT_NT = 565;
+        static final int INT_NU = 566;
+        static final int INT_NV = 567;
+        static final int INT_NW = 568;
+        static final int INT_NX = 569;
+        static final int INT_NY = 570;
+        static final int INT_OA = 571;
+        static final int INT_OC = 572;
+        static final int INT_ON = 573;
+        static final int INT_OP = 574;
+        static final int INT_OT = 575;
+        static final int INT_OZ = 576;
+        static final int INT_P_0 = 577;
+        static final int INT_P_1 = 578;
+        static final int INT_P_2 = 579;
+        static final int INT_P_3 = 580;
+        static final int INT_P_4 = 581;
+        static final int INT_P_5 = 582;
+        static final int INT_P_6 = 583;
+        static final int INT_P_7 = 584;
+        static final int INT_P_8 = 585;
+        static final int INT_P_9 = 586;
+        static final int INT_PA = 587;
+        static final int INT_PB = 588;
+        static final int INT_PC = 589;
+        static final int INT_PD = 590;
+        static final int INT_PE = 591;
+        static final int INT_PF = 592;
+        static final int INT_PG = 593;
+        static final int INT_PH = 594;
+        static final int INT_PI = 595;
+        static final int INT_PJ = 596;
+        static final int INT_PK = 597;
+        static final int INT_PL = 598;
+        static final int INT_PM = 599;
+        static final int INT_PN = 600;
+        static final int INT_PO = 601;
+        static final int INT_PP = 602;
+        static final int INT_PQ = 603;
+        static final int INT_PR = 604;
+        static final int INT_PS = 605;
+        static final int INT_PT = 606;
+        static final int INT_PU = 607;
+        static final int INT_PV = 608;
+        static final int INT_PW = 609;
+        static final int INT_PX = 610;
+        static final int INT_PY = 611;
+        static final int INT_PZ = 612;
+        static final int INT_Q_1 = 613;
+        static final int INT_Q_2 = 614;
+        static final int INT_Q_3 = 615;
+        static final int INT_Q_4 = 616;
+        static final int INT_Q_5 = 617;
+        static final int INT_Q_6 = 618;
+        static final int INT_Q_7 = 619;
+        static final int INT_QA = 620;
+        static final int INT_QB = 621;
+        static final int INT_QC = 622;
+        static final int INT_QD = 623;
+        static final int INT_QE = 624;
+        static final int INT_QH = 625;
+        static final int INT_QK = 626;
+        static final int INT_QR = 627;
+        static final int INT_QS = 628;
+        static final int INT_QT = 629;
+        static final int INT_QU = 630;
+        static final int INT_R_1 = 631;
+        static final int INT_R_2 = 632;
+        static final int INT_R_3 = 633;
+        static final int INT_R_4 = 634;
+        static final int INT_R_5 = 635;
+        static final int INT_R_6 = 636;
+        static final int INT_R_7 = 637;
+        static final int INT_R_8 = 638;
+        static final int INT_R_9 = 639;
+        static final int INT_RA = 640;
+        static final int INT_RB = 641;
+        static final int INT_RC = 642;
+        static final int INT_RD = 643;
+        static final int INT_RE = 644;
+        static final int INT_RG = 645;
+        static final int INT_RH = 646;
+        static final int INT_RK = 647;
+        static final int INT_RL = 648;
+        static final int INT_RM = 649;
+        static final int INT_RN = 650;
+        static final int INT_RO = 651;
+        static final int INT_RP = 652;
+        static final int INT_RS = 653;
+        static final int INT_RT = 654;
+        static final int INT_RU = 655;
+        static final int INT_S_1 = 656;
+        static final int INT_S_2 = 657;
+        static final int INT_S_3 = 658;
+        static final int INT_S_4 = 659;
+        static final int INT_S_5 = 660;
+        static final int INT_S_6 = 661;
+        static final int INT_S_7 = 662;
+        static final int INT_S_8 = 663;
+        static final int INT_S_9 = 664;
+        static final int INT_SA = 665;
+        static final int INT_SB = 666;
+        static final int INT_SC = 667;
+        static final int INT_SD = 668;
+        static final int INT_SE = 669;
+        static final int INT_SF = 670;
+        static final int INT_SG = 671;
+        static final int INT_SH = 672;
+        static final int INT_SI = 673;
+        static final int INT_SJ = 674;
+        static final int INT_SK = 675;
+        static final int INT_SL = 676;
+        static final int INT_SM = 677;
+        static final int INT_SN = 678;
+        static final int INT_SO = 679;
+        static final int INT_SP = 680;
+        static final int INT_SQ = 681;
+        static final int INT_SR = 682;
+        static final int INT_SS = 683;
+        static final int INT_ST = 684;
+        static final int INT_SV = 685;
+        static final int INT_SW = 686;
+        static final int INT_SX = 687;
+        static final int INT_SY = 688;
+        static final int INT_SZ = 689;
+        static final int INT_T_0 = 690;
+        static final int INT_T_1 = 691;
+        static final int INT_T_2 = 692;
+        static final int INT_T_3 = 693;
+        static final int INT_T_4 = 694;
+        static final int INT_T_5 = 695;
+        static final int INT_T_6 = 696;
+        static final int INT_T_7 = 697;
+        static final int INT_T_8 = 698;
+        static final int INT_T_9 = 699;
+        static final int INT_TA = 700;
+        static final int INT_TB = 701;
+        static final int INT_TC = 702;
+        static final int INT_TD = 703;
+        static final int INT_TE = 704;
+        static final int INT_TF = 705;
+        static final int INT_TG = 706;
+        static final int INT_TH = 707;
+        static final int INT_TI = 708;
+        static final int INT_TJ = 709;
+        static final int INT_TK = 710;
+        static final int INT_TL = 711;
+        static final int INT_TM = 712;
+        static final int INT_TN = 713;
+        static final int INT_TO = 714;
+        static final int INT_TP = 715;
+        static final int INT_TQ = 716;
+        static final int INT_TR = 717;
+        static final int INT_TS = 718;
+        static final int INT_TT = 719;
+        static final int INT_TU = 720;
+        static final int INT_TV = 721;
+        static final int INT_TW = 722;
+        static final int INT_TX = 723;
+        static final int INT_TY = 724;
+        static final int INT_TZ = 725;
+        static final int INT_U_1 = 726;
+        static final int INT_U_2 = 727;
+        static final int INT_U_3 = 728;
+        static final int INT_U_5 = 729;
+        static final int INT_UA = 730;
+        static final int INT_UB = 731;
+        static final int INT_UC = 732;
+        static final int INT_UD = 733;
+        static final int INT_UE = 734;
+        static final int INT_UF = 735;
+        static final int INT_UH = 736;
+        static final int INT_UL = 737;
+        static final int INT_UM = 738;
+        static final int INT_UN = 739;
+        static final int INT_UP = 740;
+        static final int INT_UQ = 741;
+        static final int INT_UR = 742;
+        static final int INT_US = 743;
+        static final int INT_UT = 744;
+        static final int INT_UU = 745;
+        static final int INT_UV = 746;
+        static final int INT_UW = 747;
+        static final int INT_UX = 748;
+        static final int INT_UY = 749;
+        static final int INT_UZ = 750;
+        static final int INT_V_1 = 751;
+        static final int INT_V_2 = 752;
+        static final int INT_VA = 753;
+        static final int INT_VC = 754;
+        static final int INT_VI = 755;
+        static final int INT_VP = 756;
+        static final int INT_VR = 757;
+        static final int INT_VS = 758;
+        static final int INT_W_2 = 759;
+        static final int INT_WA = 760;
+        static final int INT_WB = 761;
+        static final int INT_WD = 762;
+        static final int INT_WE = 763;
+        static final int INT_WG = 764;
+        static final int INT_WH = 765;
+        static final int INT_WI = 766;
+        static final int INT_WK = 767;
+        static final int INT_WM = 768;
+        static final int INT_WP = 769;
+        static final int INT_WR = 770;
+        static final int INT_WW = 771;
+        static final int INT_X_1 = 772;
+        static final int INT_X_2 = 773;
+        static final int INT_X_3 = 774;
+        static final int INT_X_4 = 775;
+        static final int INT_X_5 = 776;
+        static final int INT_X_6 = 777;
+        static final int INT_X_7 = 778;
+        static final int INT_X_8 = 779;
+        static final int INT_X_9 = 780;
+        static final int INT_XP = 781;
+        static final int INT_Y_1 = 782;
+        static final int INT_Y_2 = 783;
+        static final int INT_Y_3 = 784;
+        static final int INT_Y_4 = 785;
+        static final int INT_YD = 786;
+        static final int INT_YL = 787;
+        static final int INT_YR = 788;
+        static final int INT_YT = 789;
+        static final int INT_Z_1 = 790;
+        static final int INT_Z_2 = 791;
+        static final int INT_Z_3 = 792;
+        static final int INT_Z_4 = 793;
+        static final int INT_Z_5 = 794;
+        static final int INT_Z_6 = 795;
+        static final int INT_Z_8 = 796;
+        static final int INT_ZA = 797;
+        static final int INT_ZB = 798;
+        static final int INT_ZC = 799;
+        static final int INT_ZD = 800;
+        static final int INT_ZE = 801;
+        static final int INT_ZP = 802;
+        static final int INT_ZZ = 803;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("01", INT_X_01),
+                new Enum("02", INT_X_02),
+                new Enum("03", INT_X_03),
+                new Enum("04", INT_X_04),
+                new Enum("05", INT_X_05),
+                new Enum("06", INT_X_06),
+                new Enum("07", INT_X_07),
+                new Enum("08", INT_X_08),
+                new Enum("09", INT_X_09),
+                new Enum("10", INT_X_10),
+                new Enum("11", INT_X_11),
+                new Enum("12", INT_X_12),
+                new Enum("13", INT_X_13),
+                new Enum("14", INT_X_14),
+                new Enum("15", INT_X_15),
+                new Enum("16", INT_X_16),
+                new Enum("17", INT_X_17),
+                new Enum("18", INT_X_18),
+                new Enum("19", INT_X_19),
+                new Enum("1A", INT_X_1_A),
+                new Enum("1B", INT_X_1_B),
+                new Enum("1C", INT_X_1_C),
+                new Enum("1D", INT_X_1_D),
+                new Enum("1E", INT_X_1_E),
+                new Enum("1F", INT_X_1_F),
+                new Enum("1G", INT_X_1_G),
+                new Enum("1H", INT_X_1_H),
+                new Enum("1I", INT_X_1_I),
+                new Enum("1J", INT_X_1_J),
+                new Enum("1K", INT_X_1_K),
+                new Enum("1L", INT_X_1_L),
+                new Enum("1M", INT_X_1_M),
+                new Enum("1N", INT_X_1_N),
+                new Enum("1O", INT_X_1_O),
+                new Enum("1P", INT_X_1_P),
+                new Enum("1Q", INT_X_1_Q),
+                new Enum("1R", INT_X_1_R),
+                new Enum("1X", INT_X_1_X),
+                new Enum("20", INT_X_20),
+                new Enum("21", INT_X_21),
+                new Enum("22", INT_X_22),
+                new Enum("23", INT_X_23),
+                new Enum("24", INT_X_24),
+                new Enum("25", INT_X_25),
+                new Enum("26", INT_X_26),
+                new Enum("27", INT_X_27),
+                new Enum("28", INT_X_28),
+                new Enum("29", INT_X_29),
+                new Enum("2A", INT_X_2_A),
+                new Enum("2B", INT_X_2_B),
+                new Enum("2C", INT_X_2_C),
+                new Enum("2D", INT_X_2_D),
+                new Enum("2F", INT_X_2_F),
+                new Enum("2G", INT_X_2_G),
+                new Enum("2H", INT_X_2_H),
+                new Enum("2I", INT_X_2_I),
+                new Enum("2J", INT_X_2_J),
+                new Enum("2K", INT_X_2_K),
+                new Enum("2L", INT_X_2_L),
+                new Enum("2M", INT_X_2_M),
+                new Enum("2N", INT_X_2_N),
+                new Enum("2P", INT_X_2_P),
+                new Enum("2Q", INT_X_2_Q),
+                new Enum("2R", INT_X_2_R),
+                new Enum("2U", INT_X_2_U),
+                new Enum("2V", INT_X_2_V),
+                new Enum("2W", INT_X_2_W),
+                new Enum("2X", INT_X_2_X),
+                new Enum("2Y", INT_X_2_Y),
+                new Enum("2Z", INT_X_2_Z),
+                new Enum("30", INT_X_30),
+                new Enum("31", INT_X_31),
+                new Enum("32", INT_X_32),
+                new Enum("33", INT_X_33),
+                new Enum("34", INT_X_34),
+                new Enum("35", INT_X_35),
+                new Enum("36", INT_X_36),
+                new Enum("37", INT_X_37),
+                new Enum("38", INT_X_38),
+                new Enum("39", INT_X_39),
+                new Enum("3B", INT_X_3_B),
+                new Enum("3C", INT_X_3_C),
+                new Enum("3E", INT_X_3_E),
+                new Enum("3F", INT_X_3_F),
+                new Enum("3G", INT_X_3_G),
+                new Enum("3H", INT_X_3_H),
+                new Enum("3I", INT_X_3_I),
+                new Enum("40", INT_X_40),
+                new Enum("41", INT_X_41),
+                new Enum("43", INT_X_43),
+                new Enum("44", INT_X_44),
+                new Enum("45", INT_X_45),
+                new Enum("46", INT_X_46),
+                new Enum("47", INT_X_47),
+                new Enum("48", INT_X_48),
+                new Enum("4A", INT_X_4_A),
+                new Enum("4B", INT_X_4_B),
+                new Enum("4C", INT_X_4_C),
+                new Enum("4D", INT_X_4_D),
+                new Enum("4E", INT_X_4_E),
+                new Enum("4F", INT_X_4_F),
+                new Enum("4G", INT_X_4_G),
+                new Enum("4I", INT_X_4_I),
+                new Enum("4J", INT_X_4_J),
+                new Enum("4K", INT_X_4_K),
+                new Enum("4L", INT_X_4_L),
+                new Enum("4M", INT_X_4_M),
+                new Enum("4N", INT_X_4_N),
+                new Enum("4O", INT_X_4_O),
+                new Enum("4P", INT_X_4_P),
+                new Enum("4Q", INT_X_4_Q),
+                new Enum("4R", INT_X_4_R),
+                new Enum("4S", INT_X_4_S),
+                new Enum("4T", INT_X_4_T),
+                new Enum("4U", INT_X_4_U),
+                new Enum("4V", INT_X_4_V),
+                new Enum("4W", INT_X_4_W),
+                new Enum("4X", INT_X_4_X),
+                new Enum("50", INT_X_50),
+                new Enum("51", INT_X_51),
+                new Enum("52", INT_X_52),
+                new Enum("53", INT_X_53),
+                new Enum("54", INT_X_54),
+                new Enum("56", INT_X_56),
+                new Enum("57", INT_X_57),
+                new Enum("58", INT_X_58),
+                new Enum("59", INT_X_59),
+                new Enum("5A", INT_X_5_A),
+                new Enum("5B", INT_X_5_B),
+                new Enum("5C", INT_X_5_C),
+                new Enum("5D", INT_X_5_D),
+                new Enum("5E", INT_X_5_E),
+                new Enum("5F", INT_X_5_F),
+                new Enum("5G", INT_X_5_G),
+                new Enum("5H", INT_X_5_H),
+                new Enum("5I", INT_X_5_I),
+                new Enum("5J", INT_X_5_J),
+                new Enum("5K", INT_X_5_K),
+                new Enum("5P", INT_X_5_P),
+                new Enum("5Q", INT_X_5_Q),
+                new Enum("60", INT_X_60),
+                new Enum("61", INT_X_61),
+                new Enum("62", INT_X_62),
+                new Enum("63", INT_X_63),
+                new Enum("64", INT_X_64),
+                new Enum("65", INT_X_65),
+                new Enum("66", INT_X_66),
+                new Enum("67", INT_X_67),
+                new Enum("68", INT_X_68),
+                new Enum("69", INT_X_69),
+                new Enum("70", INT_X_70),
+                new Enum("71", INT_X_71),
+                new Enum("72", INT_X_72),
+                new Enum("73", INT_X_73),
+                new Enum("74", INT_X_74),
+                new Enum("76", INT_X_76),
+                new Enum("77", INT_X_77),
+                new Enum("78", INT_X_78),
+                new Enum("79", INT_X_79),
+                new Enum("80", INT_X_80),
+                new Enum("81", INT_X_81),
+                new Enum("82", INT_X_82),
+                new Enum("83", INT_X_83),
+                new Enum("84", INT_X_84),
+                new Enum("85", INT_X_85),
+                new Enum("86", INT_X_86),
+                new Enum("87", INT_X_87),
+                new Enum("89", INT_X_89),
+                new Enum("8C", INT_X_8_C),
+                new Enum("8D", INT_X_8_D),
+                new Enum("8P", INT_X_8_P),
+                new Enum("8R", INT_X_8_R),
+                new Enum("8S", INT_X_8_S),
+                new Enum("8U", INT_X_8_U),
+                new Enum("90", INT_X_90),
+                new Enum("91", INT_X_91),
+                new Enum("92", INT_X_92),
+                new Enum("93", INT_X_93),
+                new Enum("94", INT_X_94),
+                new Enum("95", INT_X_95),
+                new Enum("96", INT_X_96),
+                new Enum("97", INT_X_97),
+                new Enum("98", INT_X_98),
+                new Enum("99", INT_X_99),
+                new Enum("A8", INT_A_8),
+                new Enum("AA", INT_AA),
+                new Enum("AB", INT_AB),
+                new Enum("AC", INT_AC),
+                new Enum("AD", INT_AD),
+                new Enum("AE", INT_AE),
+                new Enum("AF", INT_AF),
+                new Enum("AG", INT_AG),
+                new Enum("AH", INT_AH),
+                new Enum("AI", INT_AI),
+                new Enum("AJ", INT_AJ),
+                new Enum("AK", INT_AK),
+                new Enum("AL", INT_AL),
+                new Enum("AM", INT_AM),
+                new Enum("AN", INT_AN),
+                new Enum("AO", INT_AO),
+                new Enum("AP", INT_AP),
+                new Enum("AQ", INT_AQ),
+                new Enum("AR", INT_AR),
+                new Enum("AS", INT_AS),
+                new Enum("AT", INT_AT),
+                new Enum("AU", INT_AU),
+                new Enum("AV", INT_AV),
+                new Enum("AW", INT_AW),
+                new Enum("AX", INT_AX),
+                new Enum("AY", INT_AY),
+                new Enum("AZ", INT_AZ),
+                new Enum("B0", INT_B_0),
+                new Enum("B1", INT_B_1),
+                new Enum("B2", INT_B_2),
+                new Enum("B3", INT_B_3),
+                new Enum("B4", INT_B_4),
+                new Enum("B5", INT_B_5),
+                new Enum("B6", INT_B_6),
+                new Enum("B7", INT_B_7),
+                new Enum("B8", INT_B_8),
+                new Enum("B9", INT_B_9),
+                new Enum("BA", INT_BA),
+                new Enum("BB", INT_BB),
+                new Enum("BC", INT_BC),
+                new Enum("BD", INT_BD),
+                new Enum("BE", INT_BE),
+                new Enum("BF", INT_BF),
+                new Enum("BG", INT_BG),
+                new Enum("BH", INT_BH),
+                new Enum("BI", INT_BI),
+                new Enum("BJ", INT_BJ),
+                new Enum("BK", INT_BK),
+                new Enum("BL", INT_BL),
+                new Enum("BM", INT_BM),
+                new Enum("BN", INT_BN),
+                new Enum("BO", INT_BO),
+                new Enum("BP", INT_BP),
+                new Enum("BQ", INT_BQ),
+                new Enum("BR", INT_BR),
+                new Enum("BS", INT_BS),
+                new Enum("BT", INT_BT),
+                new Enum("BU", INT_BU),
+                new Enum("BV", INT_BV),
+                new Enum("BW", INT_BW),
+                new Enum("BX", INT_BX),
+                new Enum("BY", INT_BY),
+                new Enum("BZ", INT_BZ),
+                new Enum("C0", INT_C_0),
+                new Enum("C1", INT_C_1),
+                new Enum("C2", INT_C_2),
+                new Enum("C3", INT_C_3),
+                new Enum("C4", INT_C_4),
+                new Enum("C5", INT_C_5),
+                new Enum("C6", INT_C_6),
+                new Enum("C7", INT_C_7),
+                new Enum("C8", INT_C_8),
+                new Enum("C9", INT_C_9),
+                new Enum("CA", INT_CA),
+                new Enum("CB", INT_CB),
+                new Enum("CC", INT_CC),
+                new Enum("CD", INT_CD),
+                new Enum("CE", INT_CE),
+                new Enum("CF", INT_CF),
+                new Enum("CG", INT_CG),
+                new Enum("CH", INT_CH),
+                new Enum("CI", INT_CI),
+                new Enum("CJ", INT_CJ),
+                new Enum("CK", INT_CK),
+                new Enum("CL", INT_CL),
+                new Enum("CM", INT_CM),
+                new Enum("CN", INT_CN),
+                new Enum("CO", INT_CO),
+                new Enum("CP", INT_CP),
+                new Enum("CQ", INT_CQ),
+                new Enum("CR", INT_CR),
+                new Enum("CS", INT_CS),
+                new Enum("CT", INT_CT),
+                new Enum("CU", INT_CU),
+                new Enum("CV", INT_CV),
+                new Enum("CW", INT_CW),
+                new Enum("CX", INT_CX),
+                new Enum("CY", INT_CY),
+                new Enum("CZ", INT_CZ),
+                new Enum("D1", INT_D_1),
+                new Enum("D2", INT_D_2),
+                new Enum("D3", INT_D_3),
+                new Enum("D5", INT_D_5),
+                new Enum("D8", INT_D_8),
+                new Enum("D9", INT_D_9),
+                new Enum("DA", INT_DA),
+                new Enum("DB", INT_DB),
+                new Enum("DC", INT_DC),
+                new Enum("DD", INT_DD),
+                new Enum("DE", INT_DE),
+                new Enum("DF", INT_DF),
+                new Enum("DG", INT_DG),
+                new Enum("DH", INT_DH),
+                new Enum("DI", INT_DI),
+                new Enum("DJ", INT_DJ),
+                new Enum("DK", INT_DK),
+                new Enum("DL", INT_DL),
+                new Enum("DM", INT_DM),
+                new Enum("DN", INT_DN),
+                new Enum("DO", INT_DO),
+                new Enum("DP", INT_DP),
+                new Enum("DQ", INT_DQ),
+                new Enum("DR", INT_DR),
+                new Enum("DS", INT_DS),
+                new Enum("DT", INT_DT),
+                new Enum("DU", INT_DU),
+                new Enum("DW", INT_DW),
+                new Enum("DX", INT_DX),
+                new Enum("DY", INT_DY),
+                new Enum("DZ", INT_DZ),
+                new Enum("E1", INT_E_1),
+                new Enum("E3", INT_E_3),
+                new Enum("E4", INT_E_4),
+                new Enum("E5", INT_E_5),
+                new Enum("E7", INT_E_7),
+                new Enum("E8", INT_E_8),
+                new Enum("E9", INT_E_9),
+                new Enum("EA", INT_EA),
+                new Enum("EB", INT_EB),
+                new Enum("EC", INT_EC),
+                new Enum("ED", INT_ED),
+                new Enum("EE", INT_EE),
+                new Enum("EF", INT_EF),
+                new Enum("EG", INT_EG),
+                new Enum("EH", INT_EH),
+                new Enum("EJ", INT_EJ),
+                new Enum("EM", INT_EM),
+                new Enum("EP", INT_EP),
+                new Enum("EQ", INT_EQ),
+                new Enum("EV", INT_EV),
+                new Enum("EX", INT_EX),
+                new Enum("EY", INT_EY),
+                new Enum("EZ", INT_EZ),
+                new Enum("F1", INT_F_1),
+                new Enum("F2", INT_F_2),
+                new Enum("F3", INT_F_3),
+                new Enum("F4", INT_F_4),
+                new Enum("F5", INT_F_5),
+                new Enum("F6", INT_F_6),
+                new Enum("F9", INT_F_9),
+                new Enum("FA", INT_FA),
+                new Enum("FB", INT_FB),
+                new Enum("FC", INT_FC),
+                new Enum("FD", INT_FD),
+                new Enum("FE", INT_FE),
+                new Enum("FF", INT_FF),
+                new Enum("FG", INT_FG),
+                new Enum("FH", INT_FH),
+                new Enum("FJ", INT_FJ),
+                new Enum("FK", INT_FK),
+                new Enum("FL", INT_FL),
+                new Enum("FM", INT_FM),
+                new Enum("FO", INT_FO),
+                new Enum("FP", INT_FP),
+                new Enum("FR", INT_FR),
+                new Enum("FS", INT_FS),
+                new Enum("FT", INT_FT),
+                new Enum("FZ", INT_FZ),
+                new Enum("G2", INT_G_2),
+                new Enum("G3", INT_G_3),
+                new Enum("G4", INT_G_4),
+                new Enum("G5", INT_G_5),
+                new Enum("G6", INT_G_6),
+                new Enum("G7", INT_G_7),
+                new Enum("G8", INT_G_8),
+                new Enum("G9", INT_G_9),
+                new Enum("GA", INT_GA),
+                new Enum("GB", INT_GB),
+                new Enum("GC", INT_GC),
+                new Enum("GD", INT_GD),
+                new Enum("GE", INT_GE),
+                new Enum("GF", INT_GF),
+                new Enum("GG", INT_GG),
+                new Enum("GH", INT_GH),
+                new Enum("GI", INT_GI),
+                new Enum("GJ", INT_GJ),
+                new Enum("GK", INT_GK),
+                new Enum("GL", INT_GL),
+                new Enum("GM", INT_GM),
+                new Enum("GN", INT_GN),
+                new Enum("GO", INT_GO),
+                new Enum("GP", INT_GP),
+                new Enum("GQ", INT_GQ),
+                new Enum("GR", INT_GR),
+                new Enum("GS", INT_GS),
+                new Enum("GT", INT_GT),
+                new Enum("GU", INT_GU),
+                new Enum("GV", INT_GV),
+                new Enum("GW", INT_GW),
+                new Enum("GX", INT_GX),
+                new Enum("GY", INT_GY),
+                new Enum("GZ", INT_GZ),
+                new Enum("H1", INT_H_1),
+                new Enum("H2", INT_H_2),
+                new Enum("H4", INT_H_4),
+                new Enum("HA", INT_HA),
+                new Enum("HB", INT_HB),
+                new Enum("HC", INT_HC),
+                new Enum("HD", INT_HD),
+                new Enum("HE", INT_HE),
+                new Enum("HF", INT_HF),
+                new Enum("HG", INT_HG),
+                new Enum("HH", INT_HH),
+                new Enum("HI", INT_HI),
+                new Enum("HJ", INT_HJ),
+                new Enum("HK", INT_HK),
+                new Enum("HL", INT_HL),
+                new Enum("HM", INT_HM),
+                new Enum("HN", INT_HN),
+                new Enum("HO", INT_HO),
+                new Enum("HP", INT_HP),
+                new Enum("HQ", INT_HQ),
+                new Enum("HR", INT_HR),
+                new Enum("HS", INT_HS),
+                new Enum("HT", INT_HT),
+                new Enum("HU", INT_HU),
+                new Enum("HV", INT_HV),
+                new Enum("HW", INT_HW),
+                new Enum("HY", INT_HY),
+                new Enum("HZ", INT_HZ),
+                new Enum("IA", INT_IA),
+                new Enum("IB", INT_IB),
+                new Enum("IC", INT_IC),
+                new Enum("IE", INT_IE),
+                new Enum("IF", INT_IF),
+                new Enum("IG", INT_IG),
+                new Enum("IH", INT_IH),
+                new Enum("II", INT_II),
+                new Enum("IK", INT_IK),
+                new Enum("IL", INT_IL),
+                new Enum("IM", INT_IM),
+                new Enum("IN", INT_IN),
+                new Enum("IP", INT_IP),
+                new Enum("IS", INT_IS),
+                new Enum("IT", INT_IT),
+                new Enum("IU", INT_IU),
+                new Enum("IV", INT_IV),
+                new Enum("IW", INT_IW),
+                new Enum("J2", INT_J_2),
+                new Enum("JA", INT_JA),
+                new Enum("JB", INT_JB),
+                new Enum("JE", INT_JE),
+                new Enum("JG", INT_JG),
+                new Enum("JK", INT_JK),
+                new Enum("JM", INT_JM),
+                new Enum("JO", INT_JO),
+                new Enum("JR", INT_JR),
+                new Enum("JU", INT_JU),
+                new Enum("K1", INT_K_1),
+                new Enum("K2", INT_K_2),
+                new Enum("K3", INT_K_3),
+                new Enum("K4", INT_K_4),
+                new Enum("K5", INT_K_5),
+                new Enum("K6", INT_K_6),
+                new Enum("K7", INT_K_7),
+                new Enum("K9", INT_K_9),
+                new Enum("KA", INT_KA),
+                new Enum("KB", INT_KB),
+                new Enum("KC", INT_KC),
+                new Enum("KD", INT_KD),
+                new Enum("KE", INT_KE),
+                new Enum("KF", INT_KF),
+                new Enum("KG", INT_KG),
+                new Enum("KH", INT_KH),
+                new Enum("KI", INT_KI),
+                new Enum("KJ", INT_KJ),
+                new Enum("KK", INT_KK),
+                new Enum("KL", INT_KL),
+                new Enum("KM", INT_KM),
+                new Enum("KO", INT_KO),
+                new Enum("KP", INT_KP),
+                new Enum("KQ", INT_KQ),
+                new Enum("KR", INT_KR),
+                new Enum("KT", INT_KT),
+                new Enum("KU", INT_KU),
+                new Enum("KV", INT_KV),
+                new Enum("KW", INT_KW),
+                new Enum("KX", INT_KX),
+                new Enum("L2", INT_L_2),
+                new Enum("LA", INT_LA),
+                new Enum("LB", INT_LB),
+                new Enum("LC", INT_LC),
+                new Enum("LE", INT_LE),
+                new Enum("LF", INT_LF),
+                new Enum("LG", INT_LG),
+                new Enum("LH", INT_LH),
+                new Enum("LI", INT_LI),
+                new Enum("LJ", INT_LJ),
+                new Enum("LK", INT_LK),
+                new Enum("LL", INT_LL),
+                new Enum("LM", INT_LM),
+                new Enum("LN", INT_LN),
+                new Enum("LO", INT_LO),
+                new Enum("LP", INT_LP),
+                new Enum("LQ", INT_LQ),
+                new Enum("LR", INT_LR),
+                new Enum("LS", INT_LS),
+                new Enum("LT", INT_LT),
+                new Enum("LX", INT_LX),
+                new Enum("LY", INT_LY),
+                new Enum("M0", INT_M_0),
+                new Enum("M1", INT_M_1),
+                new Enum("M2", INT_M_2),
+                new Enum("M3", INT_M_3),
+                new Enum("M4", INT_M_4),
+                new Enum("M5", INT_M_5),
+                new Enum("M6", INT_M_6),
+                new Enum("M7", INT_M_7),
+                new Enum("M8", INT_M_8),
+                new Enum("M9", INT_M_9),
+                new Enum("MA", INT_MA),
+                new Enum("MB", INT_MB),
+                new Enum("MC", INT_MC),
+                new Enum("MD", INT_MD),
+                new Enum("ME", INT_ME),
+                new Enum("MF", INT_MF),
+                new Enum("MG", INT_MG),
+                new Enum("MH", INT_MH),
+                new Enum("MI", INT_MI),
+                new Enum("MJ", INT_MJ),
+                new Enum("MK", INT_MK),
+                new Enum("ML", INT_ML),
+                new Enum("MM", INT_MM),
+                new Enum("MN", INT_MN),
+                new Enum("MO", INT_MO),
+                new Enum("MP", INT_MP),
+                new Enum("MQ", INT_MQ),
+                new Enum("MR", INT_MR),
+                new Enum("MS", INT_MS),
+                new Enum("MT", INT_MT),
+                new Enum("MU", INT_MU),
+                new Enum("MV", INT_MV),
+                new Enum("MW", INT_MW),
+                new Enum("MX", INT_MX),
+                new Enum("MY", INT_MY),
+                new Enum("MZ", INT_MZ),
+                new Enum("N1", INT_N_1),
+                new Enum("N2", INT_N_2),
+                new Enum("N3", INT_N_3),
+                new Enum("N4", INT_N_4),
+                new Enum("N6", INT_N_6),
+                new Enum("N7", INT_N_7),
+                new Enum("N9", INT_N_9),
+                new Enum("NA", INT_NA),
+                new Enum("NB", INT_NB),
+                new Enum("NC", INT_NC),
+                new Enum("ND", INT_ND),
+                new Enum("NE", INT_NE),
+                new Enum("NF", INT_NF),
+                new Enum("NG", INT_NG),
+                new Enum("NH", INT_NH),
+                new Enum("NI", INT_NI),
+                new Enum("NJ", INT_NJ),
+                new Enum("NK", INT_NK),
+                new Enum("NL", INT_NL),
+                new Enum("NM", INT_NM),
+                new Enum("NN", INT_NN),
+                new Enum("NQ", INT_NQ),
+                new Enum("NR", INT_NR),
+                new Enum("NS", INT_NS),
+                new Enum("NT", INT_NT),
+                new Enum("NU", INT_NU),
+                new Enum("NV", INT_NV),
+                new Enum("NW", INT_NW),
+                new Enum("NX", INT_NX),
+                new Enum("NY", INT_NY),
+                new Enum("OA", INT_OA),
+                new Enum("OC", INT_OC),
+                new Enum("ON", INT_ON),
+                new Enum("OP", INT_OP),
+                new Enum("OT", INT_OT),
+                new Enum("OZ", INT_OZ),
+                new Enum("P0", INT_P_0),
+                new Enum("P1", INT_P_1),
+                new Enum("P2", INT_P_2),
+                new Enum("P3", INT_P_3),
+                new Enum("P4", INT_P_4),
+                new Enum("P5", INT_P_5),
+                new Enum("P6", INT_P_6),
+                new Enum("P7", INT_P_7),
+                new Enum("P8", INT_P_8),
+                new Enum("P9", INT_P_9),
+                new Enum("PA", INT_PA),
+                new Enum("PB", INT_PB),
+                new Enum("PC", INT_PC),
+                new Enum("PD", INT_PD),
+                new Enum("PE", INT_PE),
+                new Enum("PF", INT_PF),
+                new Enum("PG", INT_PG),
+                new Enum("PH", INT_PH),
+                new Enum("PI", INT_PI),
+                new Enum("PJ", INT_PJ),
+                new Enum("PK", INT_PK),
+                new Enum("PL", INT_PL),
+                new Enum("PM", INT_PM),
+                new Enum("PN", INT_PN),
+                new Enum("PO", INT_PO),
+                new Enum("PP", INT_PP),
+                new Enum("PQ", INT_PQ),
+                new Enum("PR", INT_PR),
+                new Enum("PS", INT_PS),
+                new Enum("PT", INT_PT),
+                new Enum("PU", INT_PU),
+                new Enum("PV", INT_PV),
+                new Enum("PW", INT_PW),
+                new Enum("PX", INT_PX),
+                new Enum("PY", INT_PY),
+                new Enum("PZ", INT_PZ),
+                new Enum("Q1", INT_Q_1),
+                new Enum("Q2", INT_Q_2),
+                new Enum("Q3", INT_Q_3),
+                new Enum("Q4", INT_Q_4),
+                new Enum("Q5", INT_Q_5),
+                new Enum("Q6", INT_Q_6),
+                new Enum("Q7", INT_Q_7),
+                new Enum("QA", INT_QA),
+                new Enum("QB", INT_QB),
+                new Enum("QC", INT_QC),
+                new Enum("QD", INT_QD),
+                new Enum("QE", INT_QE),
+                new Enum("QH", INT_QH),
+                new Enum("QK", INT_QK),
+                new Enum("QR", INT_QR),
+                new Enum("QS", INT_QS),
+                new Enum("QT", INT_QT),
+                new Enum("QU", INT_QU),
+                new Enum("R1", INT_R_1),
+                new Enum("R2", INT_R_2),
+                new Enum("R3", INT_R_3),
+                new Enum("R4", INT_R_4),
+                new Enum("R5", INT_R_5),
+                new Enum("R6", INT_R_6),
+                new Enum("R7", INT_R_7),
+                new Enum("R8", INT_R_8),
+                new Enum("R9", INT_R_9),
+                new Enum("RA", INT_RA),
+                new Enum("RB", INT_RB),
+                new Enum("RC", INT_RC),
+                new Enum("RD", INT_RD),
+                new Enum("RE", INT_RE),
+                new Enum("RG", INT_RG),
+                new Enum("RH", INT_RH),
+                new Enum("RK", INT_RK),
+                new Enum("RL", INT_RL),
+                new Enum("RM", INT_RM),
+                new Enum("RN", INT_RN),
+                new Enum("RO", INT_RO),
+                new Enum("RP", INT_RP),
+                new Enum("RS", INT_RS),
+                new Enum("RT", INT_RT),
+                new Enum("RU", INT_RU),
+                new Enum("S1", INT_S_1),
+                new Enum("S2", INT_S_2),
+                new Enum("S3", INT_S_3),
+                new Enum("S4", INT_S_4),
+                new Enum("S5", INT_S_5),
+                new Enum("S6", INT_S_6),
+                new Enum("S7", INT_S_7),
+                new Enum("S8", INT_S_8),
+                new Enum("S9", INT_S_9),
+                new Enum("SA", INT_SA),
+                new Enum("SB", INT_SB),
+                new Enum("SC", INT_SC),
+                new Enum("SD", INT_SD),
+                new Enum("SE", INT_SE),
+                new Enum("SF", INT_SF),
+                new Enum("SG", INT_SG),
+                new Enum("SH", INT_SH),
+                new Enum("SI", INT_SI),
+                new Enum("SJ", INT_SJ),
+                new Enum("SK", INT_SK),
+                new Enum("SL", INT_SL),
+                new Enum("SM", INT_SM),
+                new Enum("SN", INT_SN),
+                new Enum("SO", INT_SO),
+                new Enum("SP", INT_SP),
+                new Enum("SQ", INT_SQ),
+                new Enum("SR", INT_SR),
+                new Enum("SS", INT_SS),
+                new Enum("ST", INT_ST),
+                new Enum("SV", INT_SV),
+                new Enum("SW", INT_SW),
+                new Enum("SX", INT_SX),
+                new Enum("SY", INT_SY),
+                new Enum("SZ", INT_SZ),
+                new Enum("T0", INT_T_0),
+                new Enum("T1", INT_T_1),
+                new Enum("T2", INT_T_2),
+                new Enum("T3", INT_T_3),
+                new Enum("T4", INT_T_4),
+                new Enum("T5", INT_T_5),
+                new Enum("T6", INT_T_6),
+                new Enum("T7", INT_T_7),
+                new Enum("T8", INT_T_8),
+                new Enum("T9", INT_T_9),
+                new Enum("TA", INT_TA),
+                new Enum("TB", INT_TB),
+                new Enum("TC", INT_TC),
+                new Enum("TD", INT_TD),
+                new Enum("TE", INT_TE),
+                new Enum("TF", INT_TF),
+                new Enum("TG", INT_TG),
+                new Enum("TH", INT_TH),
+                new Enum("TI", INT_TI),
+                new Enum("TJ", INT_TJ),
+                new Enum("TK", INT_TK),
+                new Enum("TL", INT_TL),
+                new Enum("TM", INT_TM),
+                new Enum("TN", INT_TN),
+                new Enum("TO", INT_TO),
+                new Enum("TP", INT_TP),
+                new Enum("TQ", INT_TQ),
+                new Enum("TR", INT_TR),
+                new Enum("TS", INT_TS),
+                new Enum("TT", INT_TT),
+                new Enum("TU", INT_TU),
+                new Enum("TV", INT_TV),
+                new Enum("TW", INT_TW),
+                new Enum("TX", INT_TX),
+                new Enum("TY", INT_TY),
+                new Enum("TZ", INT_TZ),
+                new Enum("U1", INT_U_1),
+                new Enum("U2", INT_U_2),
+                new Enum("U3", INT_U_3),
+                new Enum("U5", INT_U_5),
+                new Enum("UA", INT_UA),
+                new Enum("UB", INT_UB),
+                new Enum("UC", INT_UC),
+                new Enum("UD", INT_UD),
+                new Enum("UE", INT_UE),
+                new Enum("UF", INT_UF),
+                new Enum("UH", INT_UH),
+                new Enum("UL", INT_UL),
+                new Enum("UM", INT_UM),
+                new Enum("UN", INT_UN),
+                new Enum("UP", INT_UP),
+                new Enum("UQ", INT_UQ),
+                new Enum("UR", INT_UR),
+                new Enum("US", INT_US),
+                new Enum("UT", INT_UT),
+                new Enum("UU", INT_UU),
+                new Enum("UV", INT_UV),
+                new Enum("UW", INT_UW),
+                new Enum("UX", INT_UX),
+                new Enum("UY", INT_UY),
+                new Enum("UZ", INT_UZ),
+                new Enum("V1", INT_V_1),
+                new Enum("V2", INT_V_2),
+                new Enum("VA", INT_VA),
+                new Enum("VC", INT_VC),
+                new Enum("VI", INT_VI),
+                new Enum("VP", INT_VP),
+                new Enum("VR", INT_VR),
+                new Enum("VS", INT_VS),
+                new Enum("W2", INT_W_2),
+                new Enum("WA", INT_WA),
+                new Enum("WB", INT_WB),
+                new Enum("WD", INT_WD),
+                new Enum("WE", INT_WE),
+                new Enum("WG", INT_WG),
+                new Enum("WH", INT_WH),
+                new Enum("WI", INT_WI),
+                new Enum("WK", INT_WK),
+                new Enum("WM", INT_WM),
+                new Enum("WP", INT_WP),
+                new Enum("WR", INT_WR),
+                new Enum("WW", INT_WW),
+                new Enum("X1", INT_X_1),
+                new Enum("X2", INT_X_2),
+                new Enum("X3", INT_X_3),
+                new Enum("X4", INT_X_4),
+                new Enum("X5", INT_X_5),
+                new Enum("X6", INT_X_6),
+                new Enum("X7", INT_X_7),
+                new Enum("X8", INT_X_8),
+                new Enum("X9", INT_X_9),
+                new Enum("XP", INT_XP),
+                new Enum("Y1", INT_Y_1),
+                new Enum("Y2", INT_Y_2),
+                new Enum("Y3", INT_Y_3),
+                new Enum("Y4", INT_Y_4),
+                new Enum("YD", INT_YD),
+                new Enum("YL", INT_YL),
+                new Enum("YR", INT_YR),
+                new Enum("YT", INT_YT),
+                new Enum("Z1", INT_Z_1),
+                new Enum("Z2", INT_Z_2),
+                new Enum("Z3", INT_Z_3),
+                new Enum("Z4", INT_Z_4),
+                new Enum("Z5", INT_Z_5),
+                new Enum("Z6", INT_Z_6),
+                new Enum("Z8", INT_Z_8),
+                new Enum("ZA", INT_ZA),
+                new Enum("ZB", INT_ZB),
+                new Enum("ZC", INT_ZC),
+                new Enum("ZD", INT_ZD),
+                new Enum("ZE", INT_ZE),
+                new Enum("ZP", INT_ZP),
+                new Enum("ZZ", INT_ZZ),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList355 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList355) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList355 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList355 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList355 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList355) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,695 @@
+/*
+ * XML Type:  CodeList40
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList40
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList40(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList40.
+ */
+public interface CodeList40 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList40.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist405247type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum X_20 = Enum.forString("20");
+    static final Enum X_2_B = Enum.forString("2B");
+    static final Enum X_2_D = Enum.forString("2D");
+    static final Enum X_2_E = Enum.forString("2E");
+    static final Enum X_2_F = Enum.forString("2F");
+    static final Enum X_2_G = Enum.forString("2G");
+    static final Enum X_2_H = Enum.forString("2H");
+    static final Enum X_40 = Enum.forString("40");
+    static final Enum X_4_B = Enum.forString("4B");
+    static final Enum AA = Enum.forString("AA");
+    static final Enum AC = Enum.forString("AC");
+    static final Enum AD = Enum.forString("AD");
+    static final Enum AF = Enum.forString("AF");
+    static final Enum AL = Enum.forString("AL");
+    static final Enum AP = Enum.forString("AP");
+    static final Enum AT = Enum.forString("AT");
+    static final Enum BC = Enum.forString("BC");
+    static final Enum BE = Enum.forString("BE");
+    static final Enum BF = Enum.forString("BF");
+    static final Enum BG = Enum.forString("BG");
+    static final Enum BH = Enum.forString("BH");
+    static final Enum BJ = Enum.forString("BJ");
+    static final Enum BK = Enum.forString("BK");
+    static final Enum BO = Enum.forString("BO");
+    static final Enum BR = Enum.forString("BR");
+    static final Enum BX = Enum.forString("BX");
+    static final Enum CA = Enum.forString("CA");
+    static final Enum CB = Enum.forString("CB");
+    static final Enum CC = Enum.forString("CC");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CG = Enum.forString("CG");
+    static final Enum CH = Enum.forString("CH");
+    static final Enum CI = Enum.forString("CI");
+    static final Enum CJ = Enum.forString("CJ");
+    static final Enum CK = Enum.forString("CK");
+    static final Enum CL = Enum.forString("CL");
+    static final Enum CM = Enum.forString("CM");
+    static final Enum CN = Enum.forString("CN");
+    static final Enum CP = Enum.forString("CP");
+    static final Enum CQ = Enum.forString("CQ");
+    static final Enum CR = Enum.forString("CR");
+    static final Enum CS = Enum.forString("CS");
+    static final Enum CT = Enum.forString("CT");
+    static final Enum CU = Enum.forString("CU");
+    static final Enum CV = Enum.forString("CV");
+    static final Enum CW = Enum.forString("CW");
+    static final Enum CX = Enum.forString("CX");
+    static final Enum CZ = Enum.forString("CZ");
+    static final Enum DD = Enum.forString("DD");
+    static final Enum DF = Enum.forString("DF");
+    static final Enum DT = Enum.forString("DT");
+    static final Enum DX = Enum.forString("DX");
+    static final Enum ET = Enum.forString("ET");
+    static final Enum FF = Enum.forString("FF");
+    static final Enum FH = Enum.forString("FH");
+    static final Enum FN = Enum.forString("FN");
+    static final Enum FP = Enum.forString("FP");
+    static final Enum FR = Enum.forString("FR");
+    static final Enum FS = Enum.forString("FS");
+    static final Enum FT = Enum.forString("FT");
+    static final Enum FX = Enum.forString("FX");
+    static final Enum GS = Enum.forString("GS");
+    static final Enum HB = Enum.forString("HB");
+    static final Enum HC = Enum.forString("HC");
+    static final Enum HO = Enum.forString("HO");
+    static final Enum HP = Enum.forString("HP");
+    static final Enum HT = Enum.forString("HT");
+    static final Enum HV = Enum.forString("HV");
+    static final Enum HY = Enum.forString("HY");
+    static final Enum ID = Enum.forString("ID");
+    static final Enum IX = Enum.forString("IX");
+    static final Enum LO = Enum.forString("LO");
+    static final Enum LS = Enum.forString("LS");
+    static final Enum LU = Enum.forString("LU");
+    static final Enum NX = Enum.forString("NX");
+    static final Enum OB = Enum.forString("OB");
+    static final Enum OT = Enum.forString("OT");
+    static final Enum OV = Enum.forString("OV");
+    static final Enum PL = Enum.forString("PL");
+    static final Enum PP = Enum.forString("PP");
+    static final Enum PT = Enum.forString("PT");
+    static final Enum PU = Enum.forString("PU");
+    static final Enum RA = Enum.forString("RA");
+    static final Enum RC = Enum.forString("RC");
+    static final Enum RD = Enum.forString("RD");
+    static final Enum RE = Enum.forString("RE");
+    static final Enum RF = Enum.forString("RF");
+    static final Enum RG = Enum.forString("RG");
+    static final Enum RI = Enum.forString("RI");
+    static final Enum RO = Enum.forString("RO");
+    static final Enum RR = Enum.forString("RR");
+    static final Enum RS = Enum.forString("RS");
+    static final Enum RT = Enum.forString("RT");
+    static final Enum SA = Enum.forString("SA");
+    static final Enum SC = Enum.forString("SC");
+    static final Enum SD = Enum.forString("SD");
+    static final Enum SK = Enum.forString("SK");
+    static final Enum SL = Enum.forString("SL");
+    static final Enum SR = Enum.forString("SR");
+    static final Enum SS = Enum.forString("SS");
+    static final Enum ST = Enum.forString("ST");
+    static final Enum SV = Enum.forString("SV");
+    static final Enum TA = Enum.forString("TA");
+    static final Enum TB = Enum.forString("TB");
+    static final Enum TC = Enum.forString("TC");
+    static final Enum TF = Enum.forString("TF");
+    static final Enum TG = Enum.forString("TG");
+    static final Enum TH = Enum.forString("TH");
+    static final Enum TI = Enum.forString("TI");
+    static final Enum TJ = Enum.forString("TJ");
+    static final Enum TK = Enum.forString("TK");
+    static final Enum TL = Enum.forString("TL");
+    static final Enum TM = Enum.forString("TM");
+    static final Enum TN = Enum.forString("TN");
+    static final Enum TO = Enum.forString("TO");
+    static final Enum TP = Enum.forString("TP");
+    static final Enum TQ = Enum.forString("TQ");
+    static final Enum TR = Enum.forString("TR");
+    static final Enum TT = Enum.forString("TT");
+    static final Enum TU = Enum.forString("TU");
+    static final Enum TV = Enum.forString("TV");
+    static final Enum TW = Enum.forString("TW");
+    static final Enum UA = Enum.forString("UA");
+    static final Enum UB = Enum.forString("UB");
+    static final Enum UC = Enum.forString("UC");
+    static final Enum UD = Enum.forString("UD");
+    static final Enum UE = Enum.forString("UE");
+    static final Enum UL = Enum.forString("UL");
+    static final Enum UP = Enum.forString("UP");
+    static final Enum VA = Enum.forString("VA");
+    static final Enum VE = Enum.forString("VE");
+    static final Enum VL = Enum.forString("VL");
+    static final Enum VR = Enum.forString("VR");
+    static final Enum VS = Enum.forString("VS");
+    static final Enum VT = Enum.forString("VT");
+    static final Enum WR = Enum.forString("WR");
+    static final Enum WY = Enum.forString("WY");
+    
+    static final int INT_X_20 = Enum.INT_X_20;
+    static final int INT_X_2_B = Enum.INT_X_2_B;
+    static final int INT_X_2_D = Enum.INT_X_2_D;
+    static final int INT_X_2_E = Enum.INT_X_2_E;
+    static final int INT_X_2_F = Enum.INT_X_2_F;
+    static final int INT_X_2_G = Enum.INT_X_2_G;
+    static final int INT_X_2_H = Enum.INT_X_2_H;
+    static final int INT_X_40 = Enum.INT_X_40;
+    static final int INT_X_4_B = Enum.INT_X_4_B;
+    static final int INT_AA = Enum.INT_AA;
+    static final int INT_AC = Enum.INT_AC;
+    static final int INT_AD = Enum.INT_AD;
+    static final int INT_AF = Enum.INT_AF;
+    static final int INT_AL = Enum.INT_AL;
+    static final int INT_AP = Enum.INT_AP;
+    static final int INT_AT = Enum.INT_AT;
+    static final int INT_BC = Enum.INT_BC;
+    static final int INT_BE = Enum.INT_BE;
+    static final int INT_BF = Enum.INT_BF;
+    static final int INT_BG = Enum.INT_BG;
+    static final int INT_BH = Enum.INT_BH;
+    static final int INT_BJ = Enum.INT_BJ;
+    static final int INT_BK = Enum.INT_BK;
+    static final int INT_BO = Enum.INT_BO;
+    static final int INT_BR = Enum.INT_BR;
+    static final int INT_BX = Enum.INT_BX;
+    static final int INT_CA = Enum.INT_CA;
+    static final int INT_CB = Enum.INT_CB;
+    static final int INT_CC = Enum.INT_CC;
+    static final int INT_CD = Enum.INT_CD;
+    static final int INT_CG = Enum.INT_CG;
+    static final int INT_CH = Enum.INT_CH;
+    static final int INT_CI = Enum.INT_CI;
+    static final int INT_CJ = Enum.INT_CJ;
+    static final int INT_CK = Enum.INT_CK;
+    static final int INT_CL = Enum.INT_CL;
+    static final int INT_CM = Enum.INT_CM;
+    static final int INT_CN = Enum.INT_CN;
+    static final int INT_CP = Enum.INT_CP;
+    static final int INT_CQ = Enum.INT_CQ;
+    static final int INT_CR = Enum.INT_CR;
+    static final int INT_CS = Enum.INT_CS;
+    static final int INT_CT = Enum.INT_CT;
+    static final int INT_CU = Enum.INT_CU;
+    static final int INT_CV = Enum.INT_CV;
+    static final int INT_CW = Enum.INT_CW;
+    static final int INT_CX = Enum.INT_CX;
+    static final int INT_CZ = Enum.INT_CZ;
+    static final int INT_DD = Enum.INT_DD;
+    static final int INT_DF = Enum.INT_DF;
+    static final int INT_DT = Enum.INT_DT;
+    static final int INT_DX = Enum.INT_DX;
+    static final int INT_ET = Enum.INT_ET;
+    static final int INT_FF = Enum.INT_FF;
+    static final int INT_FH = Enum.INT_FH;
+    static final int INT_FN = Enum.INT_FN;
+    static final int INT_FP = Enum.INT_FP;
+    static final int INT_FR = Enum.INT_FR;
+    static final int INT_FS = Enum.INT_FS;
+    static final int INT_FT = Enum.INT_FT;
+    static final int INT_FX = Enum.INT_FX;
+    static final int INT_GS = Enum.INT_GS;
+    static final int INT_HB = Enum.INT_HB;
+    static final int INT_HC = Enum.INT_HC;
+    static final int INT_HO = Enum.INT_HO;
+    static final int INT_HP = Enum.INT_HP;
+    static final int INT_HT = Enum.INT_HT;
+    static final int INT_HV = Enum.INT_HV;
+    static final int INT_HY = Enum.INT_HY;
+    static final int INT_ID = Enum.INT_ID;
+    static final int INT_IX = Enum.INT_IX;
+    static final int INT_LO = Enum.INT_LO;
+    static final int INT_LS = Enum.INT_LS;
+    static final int INT_LU = Enum.INT_LU;
+    static final int INT_NX = Enum.INT_NX;
+    static final int INT_OB = Enum.INT_OB;
+    static final int INT_OT = Enum.INT_OT;
+    static final int INT_OV = Enum.INT_OV;
+    static final int INT_PL = Enum.INT_PL;
+    static final int INT_PP = Enum.INT_PP;
+    static final int INT_PT = Enum.INT_PT;
+    static final int INT_PU = Enum.INT_PU;
+    static final int INT_RA = Enum.INT_RA;
+    static final int INT_RC = Enum.INT_RC;
+    static final int INT_RD = Enum.INT_RD;
+    static final int INT_RE = Enum.INT_RE;
+    static final int INT_RF = Enum.INT_RF;
+    static final int INT_RG = Enum.INT_RG;
+    static final int INT_RI = Enum.INT_RI;
+    static final int INT_RO = Enum.INT_RO;
+    static final int INT_RR = Enum.INT_RR;
+    static final int INT_RS = Enum.INT_RS;
+    static final int INT_RT = Enum.INT_RT;
+    static final int INT_SA = Enum.INT_SA;
+    static final int INT_SC = Enum.INT_SC;
+    static final int INT_SD = Enum.INT_SD;
+    static final int INT_SK = Enum.INT_SK;
+    static final int INT_SL = Enum.INT_SL;
+    static final int INT_SR = Enum.INT_SR;
+    static final int INT_SS = Enum.INT_SS;
+    static final int INT_ST = Enum.INT_ST;
+    static final int INT_SV = Enum.INT_SV;
+    static final int INT_TA = Enum.INT_TA;
+    static final int INT_TB = Enum.INT_TB;
+    static final int INT_TC = Enum.INT_TC;
+    static final int INT_TF = Enum.INT_TF;
+    static final int INT_TG = Enum.INT_TG;
+    static final int INT_TH = Enum.INT_TH;
+    static final int INT_TI = Enum.INT_TI;
+    static final int INT_TJ = Enum.INT_TJ;
+    static final int INT_TK = Enum.INT_TK;
+    static final int INT_TL = Enum.INT_TL;
+    static final int INT_TM = Enum.INT_TM;
+    static final int INT_TN = Enum.INT_TN;
+    static final int INT_TO = Enum.INT_TO;
+    static final int INT_TP = Enum.INT_TP;
+    static final int INT_TQ = Enum.INT_TQ;
+    static final int INT_TR = Enum.INT_TR;
+    static final int INT_TT = Enum.INT_TT;
+    static final int INT_TU = Enum.INT_TU;
+    static final int INT_TV = Enum.INT_TV;
+    static final int INT_TW = Enum.INT_TW;
+    static final int INT_UA = Enum.INT_UA;
+    static final int INT_UB = Enum.INT_UB;
+    static final int INT_UC = Enum.INT_UC;
+    static final int INT_UD = Enum.INT_UD;
+    static final int INT_UE = Enum.INT_UE;
+    static final int INT_UL = Enum.INT_UL;
+    static final int INT_UP = Enum.INT_UP;
+    static final int INT_VA = Enum.INT_VA;
+    static final int INT_VE = Enum.INT_VE;
+    static final int INT_VL = Enum.INT_VL;
+    static final int INT_VR = Enum.INT_VR;
+    static final int INT_VS = Enum.INT_VS;
+    static final int INT_VT = Enum.INT_VT;
+    static final int INT_WR = Enum.INT_WR;
+    static final int INT_WY = Enum.INT_WY;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList40.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_X_20
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_X_20 = 1;
+        static final int INT_X_2_B = 2;
+        static final int INT_X_2_D = 3;
+        static final int INT_X_2_E = 4;
+        static final int INT_X_2_F = 5;
+        static final int INT_X_2_G = 6;
+        static final int INT_X_2_H = 7;
+        static final int INT_X_40 = 8;
+        static final int INT_X_4_B = 9;
+        static final int INT_AA = 10;
+        static final int INT_AC = 11;
+        static final int INT_AD = 12;
+        static final int INT_AF = 13;
+        static final int INT_AL = 14;
+        static final int INT_AP = 15;
+        static final int INT_AT = 16;
+        static final int INT_BC = 17;
+        static final int INT_BE = 18;
+        static final int INT_BF = 19;
+        static final int INT_BG = 20;
+        static final int INT_BH = 21;
+        static final int INT_BJ = 22;
+        static final int INT_BK = 23;
+        static final int INT_BO = 24;
+        static final int INT_BR = 25;
+        static final int INT_BX = 26;
+        static final int INT_CA = 27;
+        static final int INT_CB = 28;
+        static final int INT_CC = 29;
+        static final int INT_CD = 30;
+        static final int INT_CG = 31;
+        static final int INT_CH = 32;
+        static final int INT_CI = 33;
+        static final int INT_CJ = 34;
+        static final int INT_CK = 35;
+        static final int INT_CL = 36;
+        static final int INT_CM = 37;
+        static final int INT_CN = 38;
+        static final int INT_CP = 39;
+        static final int INT_CQ = 40;
+        static final int INT_CR = 41;
+        static final int INT_CS = 42;
+        static final int INT_CT = 43;
+        static final int INT_CU = 44;
+        static final int INT_CV = 45;
+        static final int INT_CW = 46;
+        static final int INT_CX = 47;
+        static final int INT_CZ = 48;
+        static final int INT_DD = 49;
+        static final int INT_DF = 50;
+        static final int INT_DT = 51;
+        static final int INT_DX = 52;
+        static final int INT_ET = 53;
+        static final int INT_FF = 54;
+        static final int INT_FH = 55;
+        static final int INT_FN = 56;
+        static final int INT_FP = 57;
+        static final int INT_FR = 58;
+        static final int INT_FS = 59;
+        static final int INT_FT = 60;
+        static final int INT_FX = 61;
+        static final int INT_GS = 62;
+        static final int INT_HB = 63;
+        static final int INT_HC = 64;
+        static final int INT_HO = 65;
+        static final int INT_HP = 66;
+        static final int INT_HT = 67;
+        static final int INT_HV = 68;
+        static final int INT_HY = 69;
+        static final int INT_ID = 70;
+        static final int INT_IX = 71;
+        static final int INT_LO = 72;
+        static final int INT_LS = 73;
+        static final int INT_LU = 74;
+        static final int INT_NX = 75;
+        static final int INT_OB = 76;
+        static final int INT_OT = 77;
+        static final int INT_OV = 78;
+        static final int INT_PL = 79;
+        static final int INT_PP = 80;
+        static final int INT_PT = 81;
+        static final int INT_PU = 82;
+        static final int INT_RA = 83;
+        static final int INT_RC = 84;
+        static final int INT_RD = 85;
+        static final int INT_RE = 86;
+        static final int INT_RF = 87;
+        static final int INT_RG = 88;
+        static final int INT_RI = 89;
+        static final int INT_RO = 90;
+        static final int INT_RR = 91;
+        static final int INT_RS = 92;
+        static final int INT_RT = 93;
+        static final int INT_SA = 94;
+        static final int INT_SC = 95;
+        static final int INT_SD = 96;
+        static final int INT_SK = 97;
+        static final int INT_SL = 98;
+        static final int INT_SR = 99;
+        static final int INT_SS = 100;
+        static final int INT_ST = 101;
+        static final int INT_SV = 102;
+        static final int INT_TA = 103;
+        static final int INT_TB = 104;
+        static final int INT_TC = 105;
+        static final int INT_TF = 106;
+        static final int INT_TG = 107;
+        static final int INT_TH = 108;
+        static final int INT_TI = 109;
+        static final int INT_TJ = 110;
+        static final int INT_TK = 111;
+        static final int INT_TL = 112;
+        static final int INT_TM = 113;
+        static final int INT_TN = 114;
+        static final int INT_TO = 115;
+        static final int INT_TP = 116;
+        static final int INT_TQ = 117;
+        static final int INT_TR = 118;
+        static final int INT_TT = 119;
+        static final int INT_TU = 120;
+        static final int INT_TV = 121;
+        static final int INT_TW = 122;
+        static final int INT_UA = 123;
+        static final int INT_UB = 124;
+        static final int INT_UC = 125;
+        static final int INT_UD = 126;
+        static final int INT_UE = 127;
+        static final int INT_UL = 128;
+        static final int INT_UP = 129;
+        static final int INT_VA = 130;
+        static final int INT_VE = 131;
+        static final int INT_VL = 132;
+        static final int INT_VR = 133;
+        static final int INT_VS = 134;
+        static final int INT_VT = 135;
+        static final int INT_WR = 136;
+        static final int INT_WY = 137;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("20", INT_X_20),
+                new Enum("2B", INT_X_2_B),
+                new Enum("2D", INT_X_2_D),
+                new Enum("2E", INT_X_2_E),
+                new Enum("2F", INT_X_2_F),
+                new Enum("2G", INT_X_2_G),
+                new Enum("2H", INT_X_2_H),
+                new Enum("40", INT_X_40),
+                new Enum("4B", INT_X_4_B),
+                new Enum("AA", INT_AA),
+                new Enum("AC", INT_AC),
+                new Enum("AD", INT_AD),
+                new Enum("AF", INT_AF),
+                new Enum("AL", INT_AL),
+                new Enum("AP", INT_AP),
+                new Enum("AT", INT_AT),
+                new Enum("BC", INT_BC),
+                new Enum("BE", INT_BE),
+                new Enum("BF", INT_BF),
+                new Enum("BG", INT_BG),
+                new Enum("BH", INT_BH),
+                new Enum("BJ", INT_BJ),
+                new Enum("BK", INT_BK),
+                new Enum("BO", INT_BO),
+                new Enum("BR", INT_BR),
+                new Enum("BX", INT_BX),
+                new Enum("CA", INT_CA),
+                new Enum("CB", INT_CB),
+                new Enum("CC", INT_CC),
+                new Enum("CD", INT_CD),
+                new Enum("CG", INT_CG),
+                new Enum("CH", INT_CH),
+                new Enum("CI", INT_CI),
+                new Enum("CJ", INT_CJ),
+                new Enum("CK", INT_CK),
+                new Enum("CL", INT_CL),
+                new Enum("CM", INT_CM),
+                new Enum("CN", INT_CN),
+                new Enum("CP", INT_CP),
+                new Enum("CQ", INT_CQ),
+                new Enum("CR", INT_CR),
+                new Enum("CS", INT_CS),
+                new Enum("CT", INT_CT),
+                new Enum("CU", INT_CU),
+                new Enum("CV", INT_CV),
+                new Enum("CW", INT_CW),
+                new Enum("CX", INT_CX),
+                new Enum("CZ", INT_CZ),
+                new Enum("DD", INT_DD),
+                new Enum("DF", INT_DF),
+                new Enum("DT", INT_DT),
+                new Enum("DX", INT_DX),
+                new Enum("ET", INT_ET),
+                new Enum("FF", INT_FF),
+                new Enum("FH", INT_FH),
+                new Enum("FN", INT_FN),
+                new Enum("FP", INT_FP),
+                new Enum("FR", INT_FR),
+                new Enum("FS", INT_FS),
+                new Enum("FT", INT_FT),
+                new Enum("FX", INT_FX),
+                new Enum("GS", INT_GS),
+                new Enum("HB", INT_HB),
+                new Enum("HC", INT_HC),
+                new Enum("HO", INT_HO),
+                new Enum("HP", INT_HP),
+                new Enum("HT", INT_HT),
+                new Enum("HV", INT_HV),
+                new Enum("HY", INT_HY),
+                new Enum("ID", INT_ID),
+                new Enum("IX", INT_IX),
+                new Enum("LO", INT_LO),
+                new Enum("LS", INT_LS),
+                new Enum("LU", INT_LU),
+                new Enum("NX", INT_NX),
+                new Enum("OB", INT_OB),
+                new Enum("OT", INT_OT),
+                new Enum("OV", INT_OV),
+                new Enum("PL", INT_PL),
+                new Enum("PP", INT_PP),
+                new Enum("PT", INT_PT),
+                new Enum("PU", INT_PU),
+                new Enum("RA", INT_RA),
+                new Enum("RC", INT_RC),
+                new Enum("RD", INT_RD),
+                new Enum("RE", INT_RE),
+                new Enum("RF", INT_RF),
+                new Enum("RG", INT_RG),
+                new Enum("RI", INT_RI),
+                new Enum("RO", INT_RO),
+                new Enum("RR", INT_RR),
+                new Enum("RS", INT_RS),
+                new Enum("RT", INT_RT),
+                new Enum("SA", INT_SA),
+                new Enum("SC", INT_SC),
+                new Enum("SD", INT_SD),
+                new Enum("SK", INT_SK),
+                new Enum("SL", INT_SL),
+                new Enum("SR", INT_SR),
+                new Enum("SS", INT_SS),
+                new Enum("ST", INT_ST),
+                new Enum("SV", INT_SV),
+                new Enum("TA", INT_TA),
+                new Enum("TB", INT_TB),
+                new Enum("TC", INT_TC),
+                new Enum("TF", INT_TF),
+                new Enum("TG", INT_TG),
+                new Enum("TH", INT_TH),
+                new Enum("TI", INT_TI),
+                new Enum("TJ", INT_TJ),
+                new Enum("TK", INT_TK),
+                new Enum("TL", INT_TL),
+                new Enum("TM", INT_TM),
+                new Enum("TN", INT_TN),
+                new Enum("TO", INT_TO),
+                new Enum("TP", INT_TP),
+                new Enum("TQ", INT_TQ),
+                new Enum("TR", INT_TR),
+                new Enum("TT", INT_TT),
+                new Enum("TU", INT_TU),
+                new Enum("TV", INT_TV),
+                new Enum("TW", INT_TW),
+                new Enum("UA", INT_UA),
+                new Enum("UB", INT_UB),
+                new Enum("UC", INT_UC),
+                new Enum("UD", INT_UD),
+                new Enum("UE", INT_UE),
+                new Enum("UL", INT_UL),
+                new Enum("UP", INT_UP),
+                new Enum("VA", INT_VA),
+                new Enum("VE", INT_VE),
+                new Enum("VL", INT_VL),
+                new Enum("VR", INT_VR),
+                new Enum("VS", INT_VS),
+                new Enum("VT", INT_VT),
+                new Enum("WR", INT_WR),
+                new Enum("WY", INT_WY),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList40 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList40) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList40 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList40 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList40 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList40) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * XML Type:  CodeList623
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList623
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * An XML CodeList623(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList623.
+ */
+public interface CodeList623 extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CodeList623.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("codelist623b21atype");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum X_01 = Enum.forString("01");
+    static final Enum X_02 = Enum.forString("02");
+    static final Enum X_03 = Enum.forString("03");
+    static final Enum X_04 = Enum.forString("04");
+    static final Enum X_05 = Enum.forString("05");
+    static final Enum X_06 = Enum.forString("06");
+    static final Enum X_07 = Enum.forString("07");
+    static final Enum X_08 = Enum.forString("08");
+    static final Enum X_09 = Enum.forString("09");
+    static final Enum X_10 = Enum.forString("10");
+    static final Enum X_11 = Enum.forString("11");
+    static final Enum X_12 = Enum.forString("12");
+    static final Enum X_13 = Enum.forString("13");
+    static final Enum X_14 = Enum.forString("14");
+    static final Enum X_15 = Enum.forString("15");
+    static final Enum X_16 = Enum.forString("16");
+    static final Enum X_17 = Enum.forString("17");
+    static final Enum X_18 = Enum.forString("18");
+    static final Enum X_19 = Enum.forString("19");
+    static final Enum X_20 = Enum.forString("20");
+    static final Enum X_21 = Enum.forString("21");
+    static final Enum X_22 = Enum.forString("22");
+    static final Enum X_23 = Enum.forString("23");
+    static final Enum X_24 = Enum.forString("24");
+    static final Enum AD = Enum.forString("AD");
+    static final Enum AS = Enum.forString("AS");
+    static final Enum AT = Enum.forString("AT");
+    static final Enum CD = Enum.forString("CD");
+    static final Enum CS = Enum.forString("CS");
+    static final Enum CT = Enum.forString("CT");
+    static final Enum ED = Enum.forString("ED");
+    static final Enum ES = Enum.forString("ES");
+    static final Enum ET = Enum.forString("ET");
+    static final Enum GM = Enum.forString("GM");
+    static final Enum HD = Enum.forString("HD");
+    static final Enum HS = Enum.forString("HS");
+    static final Enum HT = Enum.forString("HT");
+    static final Enum LT = Enum.forString("LT");
+    static final Enum MD = Enum.forString("MD");
+    static final Enum MS = Enum.forString("MS");
+    static final Enum MT = Enum.forString("MT");
+    static final Enum ND = Enum.forString("ND");
+    static final Enum NS = Enum.forString("NS");
+    static final Enum NT = Enum.forString("NT");
+    static final Enum PD = Enum.forString("PD");
+    static final Enum PS = Enum.forString("PS");
+    static final Enum PT = Enum.forString("PT");
+    static final Enum TD = Enum.forString("TD");
+    static final Enum TS = Enum.forString("TS");
+    static final Enum TT = Enum.forString("TT");
+    static final Enum UT = Enum.forString("UT");
+    
+    static final int INT_X_01 = Enum.INT_X_01;
+    static final int INT_X_02 = Enum.INT_X_02;
+    static final int INT_X_03 = Enum.INT_X_03;
+    static final int INT_X_04 = Enum.INT_X_04;
+    static final int INT_X_05 = Enum.INT_X_05;
+    static final int INT_X_06 = Enum.INT_X_06;
+    static final int INT_X_07 = Enum.INT_X_07;
+    static final int INT_X_08 = Enum.INT_X_08;
+    static final int INT_X_09 = Enum.INT_X_09;
+    static final int INT_X_10 = Enum.INT_X_10;
+    static final int INT_X_11 = Enum.INT_X_11;
+    static final int INT_X_12 = Enum.INT_X_12;
+    static final int INT_X_13 = Enum.INT_X_13;
+    static final int INT_X_14 = Enum.INT_X_14;
+    static final int INT_X_15 = Enum.INT_X_15;
+    static final int INT_X_16 = Enum.INT_X_16;
+    static final int INT_X_17 = Enum.INT_X_17;
+    static final int INT_X_18 = Enum.INT_X_18;
+    static final int INT_X_19 = Enum.INT_X_19;
+    static final int INT_X_20 = Enum.INT_X_20;
+    static final int INT_X_21 = Enum.INT_X_21;
+    static final int INT_X_22 = Enum.INT_X_22;
+    static final int INT_X_23 = Enum.INT_X_23;
+    static final int INT_X_24 = Enum.INT_X_24;
+    static final int INT_AD = Enum.INT_AD;
+    static final int INT_AS = Enum.INT_AS;
+    static final int INT_AT = Enum.INT_AT;
+    static final int INT_CD = Enum.INT_CD;
+    static final int INT_CS = Enum.INT_CS;
+    static final int INT_CT = Enum.INT_CT;
+    static final int INT_ED = Enum.INT_ED;
+    static final int INT_ES = Enum.INT_ES;
+    static final int INT_ET = Enum.INT_ET;
+    static final int INT_GM = Enum.INT_GM;
+    static final int INT_HD = Enum.INT_HD;
+    static final int INT_HS = Enum.INT_HS;
+    static final int INT_HT = Enum.INT_HT;
+    static final int INT_LT = Enum.INT_LT;
+    static final int INT_MD = Enum.INT_MD;
+    static final int INT_MS = Enum.INT_MS;
+    static final int INT_MT = Enum.INT_MT;
+    static final int INT_ND = Enum.INT_ND;
+    static final int INT_NS = Enum.INT_NS;
+    static final int INT_NT = Enum.INT_NT;
+    static final int INT_PD = Enum.INT_PD;
+    static final int INT_PS = Enum.INT_PS;
+    static final int INT_PT = Enum.INT_PT;
+    static final int INT_TD = Enum.INT_TD;
+    static final int INT_TS = Enum.INT_TS;
+    static final int INT_TT = Enum.INT_TT;
+    static final int INT_UT = Enum.INT_UT;
+    
+    /**
+     * Enumeration value class for org.tranxml.tranXML.version40.CodeList623.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_X_01
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_X_01 = 1;
+        static final int INT_X_02 = 2;
+        static final int INT_X_03 = 3;
+        static final int INT_X_04 = 4;
+        static final int INT_X_05 = 5;
+        static final int INT_X_06 = 6;
+        static final int INT_X_07 = 7;
+        static final int INT_X_08 = 8;
+        static final int INT_X_09 = 9;
+        static final int INT_X_10 = 10;
+        static final int INT_X_11 = 11;
+        static final int INT_X_12 = 12;
+        static final int INT_X_13 = 13;
+        static final int INT_X_14 = 14;
+        static final int INT_X_15 = 15;
+        static final int INT_X_16 = 16;
+        static final int INT_X_17 = 17;
+        static final int INT_X_18 = 18;
+        static final int INT_X_19 = 19;
+        static final int INT_X_20 = 20;
+        static final int INT_X_21 = 21;
+        static final int INT_X_22 = 22;
+        static final int INT_X_23 = 23;
+        static final int INT_X_24 = 24;
+        static final int INT_AD = 25;
+        static final int INT_AS = 26;
+        static final int INT_AT = 27;
+        static final int INT_CD = 28;
+        static final int INT_CS = 29;
+        static final int INT_CT = 30;
+        static final int INT_ED = 31;
+        static final int INT_ES = 32;
+        static final int INT_ET = 33;
+        static final int INT_GM = 34;
+        static final int INT_HD = 35;
+        static final int INT_HS = 36;
+        static final int INT_HT = 37;
+        static final int INT_LT = 38;
+        static final int INT_MD = 39;
+        static final int INT_MS = 40;
+        static final int INT_MT = 41;
+        static final int INT_ND = 42;
+        static final int INT_NS = 43;
+        static final int INT_NT = 44;
+        static final int INT_PD = 45;
+        static final int INT_PS = 46;
+        static final int INT_PT = 47;
+        static final int INT_TD = 48;
+        static final int INT_TS = 49;
+        static final int INT_TT = 50;
+        static final int INT_UT = 51;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("01", INT_X_01),
+                new Enum("02", INT_X_02),
+                new Enum("03", INT_X_03),
+                new Enum("04", INT_X_04),
+                new Enum("05", INT_X_05),
+                new Enum("06", INT_X_06),
+                new Enum("07", INT_X_07),
+                new Enum("08", INT_X_08),
+                new Enum("09", INT_X_09),
+                new Enum("10", INT_X_10),
+                new Enum("11", INT_X_11),
+                new Enum("12", INT_X_12),
+                new Enum("13", INT_X_13),
+                new Enum("14", INT_X_14),
+                new Enum("15", INT_X_15),
+                new Enum("16", INT_X_16),
+                new Enum("17", INT_X_17),
+                new Enum("18", INT_X_18),
+                new Enum("19", INT_X_19),
+                new Enum("20", INT_X_20),
+                new Enum("21", INT_X_21),
+                new Enum("22", INT_X_22),
+                new Enum("23", INT_X_23),
+                new Enum("24", INT_X_24),
+                new Enum("AD", INT_AD),
+                new Enum("AS", INT_AS),
+                new Enum("AT", INT_AT),
+                new Enum("CD", INT_CD),
+                new Enum("CS", INT_CS),
+                new Enum("CT", INT_CT),
+                new Enum("ED", INT_ED),
+                new Enum("ES", INT_ES),
+                new Enum("ET", INT_ET),
+                new Enum("GM", INT_GM),
+                new Enum("HD", INT_HD),
+                new Enum("HS", INT_HS),
+                new Enum("HT", INT_HT),
+                new Enum("LT", INT_LT),
+                new Enum("MD", INT_MD),
+                new Enum("MS", INT_MS),
+                new Enum("MT", INT_MT),
+                new Enum("ND", INT_ND),
+                new Enum("NS", INT_NS),
+                new Enum("NT", INT_NT),
+                new Enum("PD", INT_PD),
+                new Enum("PS", INT_PS),
+                new Enum("PT", INT_PT),
+                new Enum("TD", INT_TD),
+                new Enum("TS", INT_TS),
+                new Enum("TT", INT_TT),
+                new Enum("UT", INT_UT),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.CodeList623 newValue(java.lang.Object obj) {
+          return (org.tranxml.tranXML.version40.CodeList623) type.newValue( obj ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 newInstance() {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.CodeList623 parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList623 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.CodeList623 parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.CodeList623) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * An XML document type.
+ * Localname: ETA
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ETADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one ETA(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface ETADocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ETADocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("etae230doctype");
+    
+    /**
+     * Gets the "ETA" element
+     */
+    org.tranxml.tranXML.version40.ETADocument.ETA getETA();
+    
+    /**
+     * Sets the "ETA" element
+     */
+    void setETA(org.tranxml.tranXML.version40.ETADocument.ETA eta);
+    
+    /**
+     * Appends and returns a new empty "ETA" element
+     */
+    org.tranxml.tranXML.version40.ETADocument.ETA addNewETA();
+    
+    /**
+     * An XML ETA(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface ETA extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ETA.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("eta8c0eelemtype");
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation();
+        
+        /**
+         * True if has "GeographicLocation" element
+         */
+        boolean isSetGeographicLocation();
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation);
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation();
+        
+        /**
+         * Unsets the "GeographicLocation" element
+         */
+        void unsetGeographicLocation();
+        
+        /**
+         * Gets the "Date" element
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        org.apache.xmlbeans.XmlDate xgetDate();
+        
+        /**
+         * Sets the "Date" element
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Gets the "Time" element
+         */
+        org.tranxml.tranXML.version40.TimeDocument.Time getTime();
+        
+        /**
+         * Sets the "Time" element
+         */
+        void setTime(org.tranxml.tranXML.version40.TimeDocument.Time time);
+        
+        /**
+         * Appends and returns a new empty "Time" element
+         */
+        org.tranxml.tranXML.version40.TimeDocument.Time addNewTime();
+        
+        /**
+         * Gets the "ETA_Code" element
+         */
+        java.lang.String getETACode();
+        
+        /**
+         * Gets (as xml) the "ETA_Code" element
+         */
+        org.apache.xmlbeans.XmlString xgetETACode();
+        
+        /**
+         * True if has "ETA_Code" element
+         */
+        boolean isSetETACode();
+        
+        /**
+         * Sets the "ETA_Code" element
+         */
+        void setETACode(java.lang.String etaCode);
+        
+        /**
+         * Sets (as xml) the "ETA_Code" element
+         */
+        void xsetETACode(org.apache.xmlbeans.XmlString etaCode);
+        
+        /**
+         * Unsets the "ETA_Code" element
+         */
+        void unsetETACode();
+        
+        /**
+         * Gets the "Type" attribute
+         */
+        java.lang.String getType();
+        
+        /**
+         * Gets (as xml) the "Type" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetType();
+        
+        /**
+         * True if has "Type" attribute
+         */
+        boolean isSetType();
+        
+        /**
+         * Sets the "Type" attribute
+         */
+        void setType(java.lang.String type);
+        
+        /**
+         * Sets (as xml) the "Type" attribute
+         */
+        void xsetType(org.apache.xmlbeans.XmlString type);
+        
+        /**
+         * Unsets the "Type" attribute
+         */
+        void unsetType();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.ETADocument.ETA newInstance() {
+              return (org.tranxml.tranXML.version40.ETADocument.ETA) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.ETADocument.ETA newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.ETADocument.ETA) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.ETADocument newInstance() {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.ETADocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.ETADocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.ETADocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.ETADocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentStatus
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentStatusDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one EquipmentStatus(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface EquipmentStatusDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EquipmentStatusDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("equipmentstatus77bedoctype");
+    
+    /**
+     * Gets the "EquipmentStatus" element
+     */
+    org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus getEquipmentStatus();
+    
+    /**
+     * Sets the "EquipmentStatus" element
+     */
+    void setEquipmentStatus(org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus equipmentStatus);
+    
+    /**
+     * Appends and returns a new empty "EquipmentStatus" element
+     */
+    org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus addNewEquipmentStatus();
+    
+    /**
+     * An XML EquipmentStatus(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface EquipmentStatus extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EquipmentStatus.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("equipmentstatusd92aelemtype");
+        
+        /**
+         * Gets the "BadOrderReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1488.Enum getBadOrderReasonCode();
+        
+        /**
+         * Gets (as xml) the "BadOrderReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1488 xgetBadOrderReasonCode();
+        
+        /**
+         * True if has "BadOrderReasonCode" element
+         */
+        boolean isSetBadOrderReasonCode();
+        
+        /**
+         * Sets the "BadOrderReasonCode" element
+         */
+        void setBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488.Enum badOrderReasonCode);
+        
+        /**
+         * Sets (as xml) the "BadOrderReasonCode" element
+         */
+        void xsetBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488 badOrderReasonCode);
+        
+        /**
+         * Unsets the "BadOrderReasonCode" element
+         */
+        void unsetBadOrderReasonCode();
+        
+        /**
+         * Gets the "HoldReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1489.Enum getHoldReasonCode();
+        
+        /**
+         * Gets (as xml) the "HoldReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1489 xgetHoldReasonCode();
+        
+        /**
+         * True if has "HoldReasonCode" element
+         */
+        boolean isSetHoldReasonCode();
+        
+        /**
+         * Sets the "HoldReasonCode" element
+         */
+        void setHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489.Enum holdReasonCode);
+        
+        /**
+         * Sets (as xml) the "HoldReasonCode" element
+         */
+        void xsetHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489 holdReasonCode);
+        
+        /**
+         * Unsets the "HoldReasonCode" element
+         */
+        void unsetHoldReasonCode();
+        
+        /**
+         * Gets the "AAR_CarGradeCode" element
+         */
+        java.lang.String getAARCarGradeCode();
+        
+        /**
+         * Gets (as xml) the "AAR_CarGradeCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetAARCarGradeCode();
+        
+        /**
+         * True if has "AAR_CarGradeCode" element
+         */
+        boolean isSetAARCarGradeCode();
+        
+        /**
+         * Sets the "AAR_CarGradeCode" element
+         */
+        void setAARCarGradeCode(java.lang.String aarCarGradeCode);
+        
+        /**
+         * Sets (as xml) the "AAR_CarGradeCode" element
+         */
+        void xsetAARCarGradeCode(org.apache.xmlbeans.XmlString aarCarGradeCode);
+        
+        /**
+         * Unsets the "AAR_CarGradeCode" element
+         */
+        void unsetAARCarGradeCode();
+        
+        /**
+         * Gets array of all "DateTimePeriod" elements
+         */
+        org.apache.xmlbeans.GDuration[] getDateTimePeriodArray();
+        
+        /**
+         * Gets ith "DateTimePeriod" element
+         */
+        org.apache.xmlbeans.GDuration getDateTimePeriodArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "DateTimePeriod" elements
+         */
+        org.apache.xmlbeans.XmlDuration[] xgetDateTimePeriodArray();
+        
+        /**
+         * Gets (as xml) ith "DateTimePeriod" element
+         */
+        org.apache.xmlbeans.XmlDuration xgetDateTimePeriodArray(int i);
+        
+        /**
+         * Returns number of "DateTimePeriod" element
+         */
+        int sizeOfDateTimePeriodArray();
+        
+        /**
+         * Sets array of all "DateTimePeriod" element
+         */
+        void setDateTimePeriodArray(org.apache.xmlbeans.GDuration[] dateTimePeriodArray);
+        
+        /**
+         * Sets ith "DateTimePeriod" element
+         */
+        void setDateTimePeriodArray(int i, org.apache.xmlbeans.GDuration dateTimePeriod);
+        
+        /**
+         * Sets (as xml) array of all "DateTimePeriod" element
+         */
+        void xsetDateTimePeriodArray(org.apache.xmlbeans.XmlDuration[] dateTimePeriodArray);
+        
+        /**
+         * Sets (as xml) ith "DateTimePeriod" element
+         */
+        void xsetDateTimePeriodArray(int i, org.apache.xmlbeans.XmlDuration dateTimePeriod);
+        
+        /**
+         * Inserts the value as the ith "DateTimePeriod" element
+         */
+        void insertDateTimePeriod(int i, org.apache.xmlbeans.GDuration dateTimePeriod);
+        
+        /**
+         * Appends the value as the last "DateTimePeriod" element
+         */
+        void addDateTimePeriod(org.apache.xmlbeans.GDuration dateTimePeriod);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "DateTimePeriod" element
+         */
+        org.apache.xmlbeans.XmlDuration insertNewDateTimePeriod(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "DateTimePeriod" element
+         */
+        org.apache.xmlbeans.XmlDuration addNewDateTimePeriod();
+        
+        /**
+         * Removes the ith "DateTimePeriod" element
+         */
+        void removeDateTimePeriod(int i);
+        
+        /**
+         * Gets the "SwitchTypeCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList617.Enum getSwitchTypeCode();
+        
+        /**
+         * Gets (as xml) the "SwitchTypeCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList617 xgetSwitchTypeCode();
+        
+        /**
+         * True if has "SwitchTypeCode" element
+         */
+        boolean isSetSwitchTypeCode();
+        
+        /**
+         * Sets the "SwitchTypeCode" element
+         */
+        void setSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617.Enum switchTypeCode);
+        
+        /**
+         * Sets (as xml) the "SwitchTypeCode" element
+         */
+        void xsetSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617 switchTypeCode);
+        
+        /**
+         * Unsets the "SwitchTypeCode" element
+         */
+        void unsetSwitchTypeCode();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus newInstance() {
+              return (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument newInstance() {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EquipmentStatusDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EquipmentStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentStructure
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentStructureDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one EquipmentStructure(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface EquipmentStructureDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EquipmentStructureDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("equipmentstructuree575doctype");
+    
+    /**
+     * Gets the "EquipmentStructure" element
+     */
+    org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure();
+    
+    /**
+     * Sets the "EquipmentStructure" element
+     */
+    void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure);
+    
+    /**
+     * Appends and returns a new empty "EquipmentStructure" element
+     */
+    org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure();
+    
+    /**
+     * An XML EquipmentStructure(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface EquipmentStructure extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EquipmentStructure.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("equipmentstructure8b14elemtype");
+        
+        /**
+         * Gets the "Initial" element
+         */
+        java.lang.String getInitial();
+        
+        /**
+         * Gets (as xml) the "Initial" element
+         */
+        org.apache.xmlbeans.XmlString xgetInitial();
+        
+        /**
+         * Sets the "Initial" element
+         */
+        void setInitial(java.lang.String initial);
+        
+        /**
+         * Sets (as xml) the "Initial" element
+         */
+        void xsetInitial(org.apache.xmlbeans.XmlString initial);
+        
+        /**
+         * Gets the "EquipmentNumber" element
+         */
+        java.lang.String getEquipmentNumber();
+        
+        /**
+         * Gets (as xml) the "EquipmentNumber" element
+         */
+        org.apache.xmlbeans.XmlString xgetEquipmentNumber();
+        
+        /**
+         * Sets the "EquipmentNumber" element
+         */
+        void setEquipmentNumber(java.lang.String equipmentNumber);
+        
+        /**
+         * Sets (as xml) the "EquipmentNumber" element
+         */
+        void xsetEquipmentNumber(org.apache.xmlbeans.XmlString equipmentNumber);
+        
+        /**
+         * Gets the "DescriptionCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList40.Enum getDescriptionCode();
+        
+        /**
+         * Gets (as xml) the "DescriptionCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList40 xgetDescriptionCode();
+        
+        /**
+         * True if has "DescriptionCode" element
+         */
+        boolean isSetDescriptionCode();
+        
+        /**
+         * Sets the "DescriptionCode" element
+         */
+        void setDescriptionCode(org.tranxml.tranXML.version40.CodeList40.Enum descriptionCode);
+        
+        /**
+         * Sets (as xml) the "DescriptionCode" element
+         */
+        void xsetDescriptionCode(org.tranxml.tranXML.version40.CodeList40 descriptionCode);
+        
+        /**
+         * Unsets the "DescriptionCode" element
+         */
+        void unsetDescriptionCode();
+        
+        /**
+         * Gets the "Length" element
+         */
+        org.tranxml.tranXML.version40.LengthDocument.Length getLength();
+        
+        /**
+         * True if has "Length" element
+         */
+        boolean isSetLength();
+        
+        /**
+         * Sets the "Length" element
+         */
+        void setLength(org.tranxml.tranXML.version40.LengthDocument.Length length);
+        
+        /**
+         * Appends and returns a new empty "Length" element
+         */
+        org.tranxml.tranXML.version40.LengthDocument.Length addNewLength();
+        
+        /**
+         * Unsets the "Length" element
+         */
+        void unsetLength();
+        
+        /**
+         * Gets the "NumberCheckDigit" element
+         */
+        java.math.BigInteger getNumberCheckDigit();
+        
+        /**
+         * Gets (as xml) the "NumberCheckDigit" element
+         */
+        org.apache.xmlbeans.XmlInteger xgetNumberCheckDigit();
+        
+        /**
+         * True if has "NumberCheckDigit" element
+         */
+        boolean isSetNumberCheckDigit();
+        
+        /**
+         * Sets the "NumberCheckDigit" element
+         */
+        void setNumberCheckDigit(java.math.BigInteger numberCheckDigit);
+        
+        /**
+         * Sets (as xml) the "NumberCheckDigit" element
+         */
+        void xsetNumberCheckDigit(org.apache.xmlbeans.XmlInteger numberCheckDigit);
+        
+        /**
+         * Unsets the "NumberCheckDigit" element
+         */
+        void unsetNumberCheckDigit();
+        
+        /**
+         * Gets the "EquipmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList578.Enum getEquipmentStatusCode();
+        
+        /**
+         * Gets (as xml) the "EquipmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList578 xgetEquipmentStatusCode();
+        
+        /**
+         * True if has "EquipmentStatusCode" element
+         */
+        boolean isSetEquipmentStatusCode();
+        
+        /**
+         * Sets the "EquipmentStatusCode" element
+         */
+        void setEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578.Enum equipmentStatusCode);
+        
+        /**
+         * Sets (as xml) the "EquipmentStatusCode" element
+         */
+        void xsetEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578 equipmentStatusCode);
+        
+        /**
+         * Unsets the "EquipmentStatusCode" element
+         */
+        void unsetEquipmentStatusCode();
+        
+        /**
+         * Gets the "LoadEmptyCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList322.Enum getLoadEmptyCode();
+        
+        /**
+         * Gets (as xml) the "LoadEmptyCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList322 xgetLoadEmptyCode();
+        
+        /**
+         * True if has "LoadEmptyCode" element
+         */
+        boolean isSetLoadEmptyCode();
+        
+        /**
+         * Sets the "LoadEmptyCode" element
+         */
+        void setLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322.Enum loadEmptyCode);
+        
+        /**
+         * Sets (as xml) the "LoadEmptyCode" element
+         */
+        void xsetLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322 loadEmptyCode);
+        
+        /**
+         * Unsets the "LoadEmptyCode" element
+         */
+        void unsetLoadEmptyCode();
+        
+        /**
+         * Gets the "EquipmentType" element
+         */
+        java.lang.String getEquipmentType();
+        
+        /**
+         * Gets (as xml) the "EquipmentType" element
+         */
+        org.apache.xmlbeans.XmlString xgetEquipmentType();
+        
+        /**
+         * True if has "EquipmentType" element
+         */
+        boolean isSetEquipmentType();
+        
+        /**
+         * Sets the "EquipmentType" element
+         */
+        void setEquipmentType(java.lang.String equipmentType);
+        
+        /**
+         * Sets (as xml) the "EquipmentType" element
+         */
+        void xsetEquipmentType(org.apache.xmlbeans.XmlString equipmentType);
+        
+        /**
+         * Unsets the "EquipmentType" element
+         */
+        void unsetEquipmentType();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure newInstance() {
+              return (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument newInstance() {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EquipmentStructureDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EquipmentStructureDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
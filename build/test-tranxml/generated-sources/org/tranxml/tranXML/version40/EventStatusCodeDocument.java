@@ -0,0 +1,344 @@
+/*
+ * An XML document type.
+ * Localname: EventStatusCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EventStatusCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one EventStatusCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface EventStatusCodeDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EventStatusCodeDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("eventstatuscode8897doctype");
+    
+    /**
+     * Gets the "EventStatusCode" element
+     */
+    org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode getEventStatusCode();
+    
+    /**
+     * Sets the "EventStatusCode" element
+     */
+    void setEventStatusCode(org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode eventStatusCode);
+    
+    /**
+     * Appends and returns a new empty "EventStatusCode" element
+     */
+    org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode addNewEventStatusCode();
+    
+    /**
+     * An XML EventStatusCode(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface EventStatusCode extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EventStatusCode.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("eventstatuscoded69celemtype");
+        
+        /**
+         * Gets the "RailStatusCode" element
+         */
+        java.lang.String getRailStatusCode();
+        
+        /**
+         * Gets (as xml) the "RailStatusCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetRailStatusCode();
+        
+        /**
+         * True if has "RailStatusCode" element
+         */
+        boolean isSetRailStatusCode();
+        
+        /**
+         * Sets the "RailStatusCode" element
+         */
+        void setRailStatusCode(java.lang.String railStatusCode);
+        
+        /**
+         * Sets (as xml) the "RailStatusCode" element
+         */
+        void xsetRailStatusCode(org.apache.xmlbeans.XmlString railStatusCode);
+        
+        /**
+         * Unsets the "RailStatusCode" element
+         */
+        void unsetRailStatusCode();
+        
+        /**
+         * Gets the "CLM_SightingCode" element
+         */
+        org.tranxml.tranXML.version40.CLMSightingCodeList.Enum getCLMSightingCode();
+        
+        /**
+         * Gets (as xml) the "CLM_SightingCode" element
+         */
+        org.tranxml.tranXML.version40.CLMSightingCodeList xgetCLMSightingCode();
+        
+        /**
+         * True if has "CLM_SightingCode" element
+         */
+        boolean isSetCLMSightingCode();
+        
+        /**
+         * Sets the "CLM_SightingCode" element
+         */
+        void setCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList.Enum clmSightingCode);
+        
+        /**
+         * Sets (as xml) the "CLM_SightingCode" element
+         */
+        void xsetCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList clmSightingCode);
+        
+        /**
+         * Unsets the "CLM_SightingCode" element
+         */
+        void unsetCLMSightingCode();
+        
+        /**
+         * Gets the "ShipmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1650.Enum getShipmentStatusCode();
+        
+        /**
+         * Gets (as xml) the "ShipmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1650 xgetShipmentStatusCode();
+        
+        /**
+         * True if has "ShipmentStatusCode" element
+         */
+        boolean isSetShipmentStatusCode();
+        
+        /**
+         * Sets the "ShipmentStatusCode" element
+         */
+        void setShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650.Enum shipmentStatusCode);
+        
+        /**
+         * Sets (as xml) the "ShipmentStatusCode" element
+         */
+        void xsetShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650 shipmentStatusCode);
+        
+        /**
+         * Unsets the "ShipmentStatusCode" element
+         */
+        void unsetShipmentStatusCode();
+        
+        /**
+         * Gets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1651.Enum getShipmentStatusOrAppointmentOrReasonCode();
+        
+        /**
+         * Gets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1651 xgetShipmentStatusOrAppointmentOrReasonCode();
+        
+        /**
+         * True if has "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        boolean isSetShipmentStatusOrAppointmentOrReasonCode();
+        
+        /**
+         * Sets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        void setShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651.Enum shipmentStatusOrAppointmentOrReasonCode);
+        
+        /**
+         * Sets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        void xsetShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651 shipmentStatusOrAppointmentOrReasonCode);
+        
+        /**
+         * Unsets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        void unsetShipmentStatusOrAppointmentOrReasonCode();
+        
+        /**
+         * Gets the "ShipmentAppointmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1652.Enum getShipmentAppointmentStatusCode();
+        
+        /**
+         * Gets (as xml) the "ShipmentAppointmentStatusCode" element
+         */
+        org.tranxml.tranXML.version40.CodeList1652 xgetShipmentAppointmentStatusCode();
+        
+        /**
+         * True if has "ShipmentAppointmentStatusCode" element
+         */
+        boolean isSetShipmentAppointmentStatusCode();
+        
+        /**
+         * Sets the "ShipmentAppointmentStatusCode" element
+         */
+        void setShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652.Enum shipmentAppointmentStatusCode);
+        
+        /**
+         * Sets (as xml) the "ShipmentAppointmentStatusCode" element
+         */
+        void xsetShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652 shipmentAppointmentStatusCode);
+        
+        /**
+         * Unsets the "ShipmentAppointmentStatusCode" element
+         */
+        void unsetShipmentAppointmentStatusCode();
+        
+        /**
+         * Gets the "Code" element
+         */
+        org.tranxml.tranXML.version40.CodeDocument.Code getCode();
+        
+        /**
+         * True if has "Code" element
+         */
+        boolean isSetCode();
+        
+        /**
+         * Sets the "Code" element
+         */
+        void setCode(org.tranxml.tranXML.version40.CodeDocument.Code code);
+        
+        /**
+         * Appends and returns a new empty "Code" element
+         */
+        org.tranxml.tranXML.version40.CodeDocument.Code addNewCode();
+        
+        /**
+         * Unsets the "Code" element
+         */
+        void unsetCode();
+        
+        /**
+         * Gets the "FreeFormDescription" element
+         */
+        java.lang.String getFreeFormDescription();
+        
+        /**
+         * Gets (as xml) the "FreeFormDescription" element
+         */
+        org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription xgetFreeFormDescription();
+        
+        /**
+         * True if has "FreeFormDescription" element
+         */
+        boolean isSetFreeFormDescription();
+        
+        /**
+         * Sets the "FreeFormDescription" element
+         */
+        void setFreeFormDescription(java.lang.String freeFormDescription);
+        
+        /**
+         * Sets (as xml) the "FreeFormDescription" element
+         */
+        void xsetFreeFormDescription(org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription freeFormDescription);
+        
+        /**
+         * Unsets the "FreeFormDescription" element
+         */
+        void unsetFreeFormDescription();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode newInstance() {
+              return (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument newInstance() {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EventStatusCodeDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EventStatusCodeDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * An XML document type.
+ * Localname: EventStatus
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EventStatusDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one EventStatus(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface EventStatusDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EventStatusDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("eventstatus184adoctype");
+    
+    /**
+     * Gets the "EventStatus" element
+     */
+    org.tranxml.tranXML.version40.EventStatusDocument.EventStatus getEventStatus();
+    
+    /**
+     * Sets the "EventStatus" element
+     */
+    void setEventStatus(org.tranxml.tranXML.version40.EventStatusDocument.EventStatus eventStatus);
+    
+    /**
+     * Appends and returns a new empty "EventStatus" element
+     */
+    org.tranxml.tranXML.version40.EventStatusDocument.EventStatus addNewEventStatus();
+    
+    /**
+     * An XML EventStatus(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface EventStatus extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EventStatus.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("eventstatus73c2elemtype");
+        
+        /**
+         * Gets the "EquipmentStructure" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure();
+        
+        /**
+         * True if has "EquipmentStructure" element
+         */
+        boolean isSetEquipmentStructure();
+        
+        /**
+         * Sets the "EquipmentStructure" element
+         */
+        void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure);
+        
+        /**
+         * Appends and returns a new empty "EquipmentStructure" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure();
+        
+        /**
+         * Unsets the "EquipmentStructure" element
+         */
+        void unsetEquipmentStructure();
+        
+        /**
+         * Gets the "Date" element
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        org.apache.xmlbeans.XmlDate xgetDate();
+        
+        /**
+         * True if has "Date" element
+         */
+        boolean isSetDate();
+        
+        /**
+         * Sets the "Date" element
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Unsets the "Date" element
+         */
+        void unsetDate();
+        
+        /**
+         * Gets the "Time" element
+         */
+        org.tranxml.tranXML.version40.TimeDocument.Time getTime();
+        
+        /**
+         * True if has "Time" element
+         */
+        boolean isSetTime();
+        
+        /**
+         * Sets the "Time" element
+         */
+        void setTime(org.tranxml.tranXML.version40.TimeDocument.Time time);
+        
+        /**
+         * Appends and returns a new empty "Time" element
+         */
+        org.tranxml.tranXML.version40.TimeDocument.Time addNewTime();
+        
+        /**
+         * Unsets the "Time" element
+         */
+        void unsetTime();
+        
+        /**
+         * Gets the "EventStatusCode" element
+         */
+        org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode getEventStatusCode();
+        
+        /**
+         * True if has "EventStatusCode" element
+         */
+        boolean isSetEventStatusCode();
+        
+        /**
+         * Sets the "EventStatusCode" element
+         */
+        void setEventStatusCode(org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode eventStatusCode);
+        
+        /**
+         * Appends and returns a new empty "EventStatusCode" element
+         */
+        org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode addNewEventStatusCode();
+        
+        /**
+         * Unsets the "EventStatusCode" element
+         */
+        void unsetEventStatusCode();
+        
+        /**
+         * Gets the "ReasonCode" element
+         */
+        java.lang.String getReasonCode();
+        
+        /**
+         * Gets (as xml) the "ReasonCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetReasonCode();
+        
+        /**
+         * True if has "ReasonCode" element
+         */
+        boolean isSetReasonCode();
+        
+        /**
+         * Sets the "ReasonCode" element
+         */
+        void setReasonCode(java.lang.String reasonCode);
+        
+        /**
+         * Sets (as xml) the "ReasonCode" element
+         */
+        void xsetReasonCode(org.apache.xmlbeans.XmlString reasonCode);
+        
+        /**
+         * Unsets the "ReasonCode" element
+         */
+        void unsetReasonCode();
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation();
+        
+        /**
+         * True if has "GeographicLocation" element
+         */
+        boolean isSetGeographicLocation();
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation);
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation();
+        
+        /**
+         * Unsets the "GeographicLocation" element
+         */
+        void unsetGeographicLocation();
+        
+        /**
+         * Gets the "StandardCarrierAlphaCode" element
+         */
+        java.lang.String getStandardCarrierAlphaCode();
+        
+        /**
+         * Gets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetStandardCarrierAlphaCode();
+        
+        /**
+         * True if has "StandardCarrierAlphaCode" element
+         */
+        boolean isSetStandardCarrierAlphaCode();
+        
+        /**
+         * Sets the "StandardCarrierAlphaCode" element
+         */
+        void setStandardCarrierAlphaCode(java.lang.String standardCarrierAlphaCode);
+        
+        /**
+         * Sets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        void xsetStandardCarrierAlphaCode(org.apache.xmlbeans.XmlString standardCarrierAlphaCode);
+        
+        /**
+         * Unsets the "StandardCarrierAlphaCode" element
+         */
+        void unsetStandardCarrierAlphaCode();
+        
+        /**
+         * Gets the "Destination" element
+         */
+        org.tranxml.tranXML.version40.DestinationDocument.Destination getDestination();
+        
+        /**
+         * True if has "Destination" element
+         */
+        boolean isSetDestination();
+        
+        /**
+         * Sets the "Destination" element
+         */
+        void setDestination(org.tranxml.tranXML.version40.DestinationDocument.Destination destination);
+        
+        /**
+         * Appends and returns a new empty "Destination" element
+         */
+        org.tranxml.tranXML.version40.DestinationDocument.Destination addNewDestination();
+        
+        /**
+         * Unsets the "Destination" element
+         */
+        void unsetDestination();
+        
+        /**
+         * Gets the "ETA" element
+         */
+        org.tranxml.tranXML.version40.ETADocument.ETA getETA();
+        
+        /**
+         * True if has "ETA" element
+         */
+        boolean isSetETA();
+        
+        /**
+         * Sets the "ETA" element
+         */
+        void setETA(org.tranxml.tranXML.version40.ETADocument.ETA eta);
+        
+        /**
+         * Appends and returns a new empty "ETA" element
+         */
+        org.tranxml.tranXML.version40.ETADocument.ETA addNewETA();
+        
+        /**
+         * Unsets the "ETA" element
+         */
+        void unsetETA();
+        
+        /**
+         * Gets the "ConveyingEquipment" element
+         */
+        org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment getConveyingEquipment();
+        
+        /**
+         * True if has "ConveyingEquipment" element
+         */
+        boolean isSetConveyingEquipment();
+        
+        /**
+         * Sets the "ConveyingEquipment" element
+         */
+        void setConveyingEquipment(org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment conveyingEquipment);
+        
+        /**
+         * Appends and returns a new empty "ConveyingEquipment" element
+         */
+        org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment addNewConveyingEquipment();
+        
+        /**
+         * Unsets the "ConveyingEquipment" element
+         */
+        void unsetConveyingEquipment();
+        
+        /**
+         * Gets the "AEI_IndicatorCode" element
+         */
+        java.lang.String getAEIIndicatorCode();
+        
+        /**
+         * Gets (as xml) the "AEI_IndicatorCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetAEIIndicatorCode();
+        
+        /**
+         * True if has "AEI_IndicatorCode" element
+         */
+        boolean isSetAEIIndicatorCode();
+        
+        /**
+         * Sets the "AEI_IndicatorCode" element
+         */
+        void setAEIIndicatorCode(java.lang.String aeiIndicatorCode);
+        
+        /**
+         * Sets (as xml) the "AEI_IndicatorCode" element
+         */
+        void xsetAEIIndicatorCode(org.apache.xmlbeans.XmlString aeiIndicatorCode);
+        
+        /**
+         * Unsets the "AEI_IndicatorCode" element
+         */
+        void unsetAEIIndicatorCode();
+        
+        /**
+         * Gets the "EquipmentStatus" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus getEquipmentStatus();
+        
+        /**
+         * True if has "EquipmentStatus" element
+         */
+        boolean isSetEquipmentStatus();
+        
+        /**
+         * Sets the "EquipmentStatus" element
+         */
+        void setEquipmentStatus(org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus equipmentStatus);
+        
+        /**
+         * Appends and returns a new empty "EquipmentStatus" element
+         */
+        org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus addNewEquipmentStatus();
+        
+        /**
+         * Unsets the "EquipmentStatus" element
+         */
+        void unsetEquipmentStatus();
+        
+        /**
+         * Gets the "Position" element
+         */
+        java.lang.String getPosition();
+        
+        /**
+         * Gets (as xml) the "Position" element
+         */
+        org.apache.xmlbeans.XmlString xgetPosition();
+        
+        /**
+         * True if has "Position" element
+         */
+        boolean isSetPosition();
+        
+        /**
+         * Sets the "Position" element
+         */
+        void setPosition(java.lang.String position);
+        
+        /**
+         * Sets (as xml) the "Position" element
+         */
+        void xsetPosition(org.apache.xmlbeans.XmlString position);
+        
+        /**
+         * Unsets the "Position" element
+         */
+        void unsetPosition();
+        
+        /**
+         * Gets the "FreeFormDescription" element
+         */
+        java.lang.String getFreeFormDescription();
+        
+        /**
+         * Gets (as xml) the "FreeFormDescription" element
+         */
+        org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription xgetFreeFormDescription();
+        
+        /**
+         * True if has "FreeFormDescription" element
+         */
+        boolean isSetFreeFormDescription();
+        
+        /**
+         * Sets the "FreeFormDescription" element
+         */
+        void setFreeFormDescription(java.lang.String freeFormDescription);
+        
+        /**
+         * Sets (as xml) the "FreeFormDescription" element
+         */
+        void xsetFreeFormDescription(org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription freeFormDescription);
+        
+        /**
+         * Unsets the "FreeFormDescription" element
+         */
+        void unsetFreeFormDescription();
+        
+        /**
+         * Gets the "Type" attribute
+         */
+        java.lang.String getType();
+        
+        /**
+         * Gets (as xml) the "Type" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetType();
+        
+        /**
+         * True if has "Type" attribute
+         */
+        boolean isSetType();
+        
+        /**
+         * Sets the "Type" attribute
+         */
+        void setType(java.lang.String type);
+        
+        /**
+         * Sets (as xml) the "Type" attribute
+         */
+        void xsetType(org.apache.xmlbeans.XmlString type);
+        
+        /**
+         * Unsets the "Type" attribute
+         */
+        void unsetType();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.EventStatusDocument.EventStatus newInstance() {
+              return (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.EventStatusDocument.EventStatus newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.EventStatusDocument newInstance() {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.EventStatusDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.EventStatusDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
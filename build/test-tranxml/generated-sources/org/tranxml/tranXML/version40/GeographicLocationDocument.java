@@ -0,0 +1,369 @@
+/*
+ * An XML document type.
+ * Localname: GeographicLocation
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.GeographicLocationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one GeographicLocation(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface GeographicLocationDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GeographicLocationDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("geographiclocation887cdoctype");
+    
+    /**
+     * Gets the "GeographicLocation" element
+     */
+    org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation();
+    
+    /**
+     * Sets the "GeographicLocation" element
+     */
+    void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation);
+    
+    /**
+     * Appends and returns a new empty "GeographicLocation" element
+     */
+    org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation();
+    
+    /**
+     * An XML GeographicLocation(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public interface GeographicLocation extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GeographicLocation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("geographiclocation8574elemtype");
+        
+        /**
+         * Gets the "CityName" element
+         */
+        org.tranxml.tranXML.version40.CityNameDocument.CityName getCityName();
+        
+        /**
+         * True if has "CityName" element
+         */
+        boolean isSetCityName();
+        
+        /**
+         * Sets the "CityName" element
+         */
+        void setCityName(org.tranxml.tranXML.version40.CityNameDocument.CityName cityName);
+        
+        /**
+         * Appends and returns a new empty "CityName" element
+         */
+        org.tranxml.tranXML.version40.CityNameDocument.CityName addNewCityName();
+        
+        /**
+         * Unsets the "CityName" element
+         */
+        void unsetCityName();
+        
+        /**
+         * Gets the "StateOrProvinceCode" element
+         */
+        java.lang.String getStateOrProvinceCode();
+        
+        /**
+         * Gets (as xml) the "StateOrProvinceCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetStateOrProvinceCode();
+        
+        /**
+         * True if has "StateOrProvinceCode" element
+         */
+        boolean isSetStateOrProvinceCode();
+        
+        /**
+         * Sets the "StateOrProvinceCode" element
+         */
+        void setStateOrProvinceCode(java.lang.String stateOrProvinceCode);
+        
+        /**
+         * Sets (as xml) the "StateOrProvinceCode" element
+         */
+        void xsetStateOrProvinceCode(org.apache.xmlbeans.XmlString stateOrProvinceCode);
+        
+        /**
+         * Unsets the "StateOrProvinceCode" element
+         */
+        void unsetStateOrProvinceCode();
+        
+        /**
+         * Gets the "PostalCode" element
+         */
+        java.lang.String getPostalCode();
+        
+        /**
+         * Gets (as xml) the "PostalCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetPostalCode();
+        
+        /**
+         * True if has "PostalCode" element
+         */
+        boolean isSetPostalCode();
+        
+        /**
+         * Sets the "PostalCode" element
+         */
+        void setPostalCode(java.lang.String postalCode);
+        
+        /**
+         * Sets (as xml) the "PostalCode" element
+         */
+        void xsetPostalCode(org.apache.xmlbeans.XmlString postalCode);
+        
+        /**
+         * Unsets the "PostalCode" element
+         */
+        void unsetPostalCode();
+        
+        /**
+         * Gets the "CountryCode" element
+         */
+        java.lang.String getCountryCode();
+        
+        /**
+         * Gets (as xml) the "CountryCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetCountryCode();
+        
+        /**
+         * True if has "CountryCode" element
+         */
+        boolean isSetCountryCode();
+        
+        /**
+         * Sets the "CountryCode" element
+         */
+        void setCountryCode(java.lang.String countryCode);
+        
+        /**
+         * Sets (as xml) the "CountryCode" element
+         */
+        void xsetCountryCode(org.apache.xmlbeans.XmlString countryCode);
+        
+        /**
+         * Unsets the "CountryCode" element
+         */
+        void unsetCountryCode();
+        
+        /**
+         * Gets the "LocationIdentifier" element
+         */
+        org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier getLocationIdentifier();
+        
+        /**
+         * True if has "LocationIdentifier" element
+         */
+        boolean isSetLocationIdentifier();
+        
+        /**
+         * Sets the "LocationIdentifier" element
+         */
+        void setLocationIdentifier(org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier locationIdentifier);
+        
+        /**
+         * Appends and returns a new empty "LocationIdentifier" element
+         */
+        org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier addNewLocationIdentifier();
+        
+        /**
+         * Unsets the "LocationIdentifier" element
+         */
+        void unsetLocationIdentifier();
+        
+        /**
+         * Gets the "SPLC" element
+         */
+        java.lang.String getSPLC();
+        
+        /**
+         * Gets (as xml) the "SPLC" element
+         */
+        org.apache.xmlbeans.XmlString xgetSPLC();
+        
+        /**
+         * True if has "SPLC" element
+         */
+        boolean isSetSPLC();
+        
+        /**
+         * Sets the "SPLC" element
+         */
+        void setSPLC(java.lang.String splc);
+        
+        /**
+         * Sets (as xml) the "SPLC" element
+         */
+        void xsetSPLC(org.apache.xmlbeans.XmlString splc);
+        
+        /**
+         * Unsets the "SPLC" element
+         */
+        void unsetSPLC();
+        
+        /**
+         * Gets the "CountrySubdivisionCode" element
+         */
+        java.lang.String getCountrySubdivisionCode();
+        
+        /**
+         * Gets (as xml) the "CountrySubdivisionCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetCountrySubdivisionCode();
+        
+        /**
+         * True if has "CountrySubdivisionCode" element
+         */
+        boolean isSetCountrySubdivisionCode();
+        
+        /**
+         * Sets the "CountrySubdivisionCode" element
+         */
+        void setCountrySubdivisionCode(java.lang.String countrySubdivisionCode);
+        
+        /**
+         * Sets (as xml) the "CountrySubdivisionCode" element
+         */
+        void xsetCountrySubdivisionCode(org.apache.xmlbeans.XmlString countrySubdivisionCode);
+        
+        /**
+         * Unsets the "CountrySubdivisionCode" element
+         */
+        void unsetCountrySubdivisionCode();
+        
+        /**
+         * Gets the "SegmentId" attribute
+         */
+        java.lang.String getSegmentId();
+        
+        /**
+         * Gets (as xml) the "SegmentId" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetSegmentId();
+        
+        /**
+         * True if has "SegmentId" attribute
+         */
+        boolean isSetSegmentId();
+        
+        /**
+         * Sets the "SegmentId" attribute
+         */
+        void setSegmentId(java.lang.String segmentId);
+        
+        /**
+         * Sets (as xml) the "SegmentId" attribute
+         */
+        void xsetSegmentId(org.apache.xmlbeans.XmlString segmentId);
+        
+        /**
+         * Unsets the "SegmentId" attribute
+         */
+        void unsetSegmentId();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation newInstance() {
+              return (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument newInstance() {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.GeographicLocationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.GeographicLocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
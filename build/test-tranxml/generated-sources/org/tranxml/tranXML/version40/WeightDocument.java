@@ -0,0 +1,229 @@
+/*
+ * An XML document type.
+ * Localname: Weight
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.WeightDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40;
+
+
+/**
+ * A document containing one Weight(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public interface WeightDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(WeightDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("weight1e28doctype");
+    
+    /**
+     * Gets the "Weight" element
+     */
+    org.tranxml.tranXML.version40.WeightDocument.Weight getWeight();
+    
+    /**
+     * Sets the "Weight" element
+     */
+    void setWeight(org.tranxml.tranXML.version40.WeightDocument.Weight weight);
+    
+    /**
+     * Appends and returns a new empty "Weight" element
+     */
+    org.tranxml.tranXML.version40.WeightDocument.Weight addNewWeight();
+    
+    /**
+     * An XML Weight(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.WeightDocument$Weight.
+     */
+    public interface Weight extends org.apache.xmlbeans.XmlFloat
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Weight.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sTRAN").resolveHandle("weightf474elemtype");
+        
+        /**
+         * Gets the "Qualifier" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList187.Enum getQualifier();
+        
+        /**
+         * Gets (as xml) the "Qualifier" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList187 xgetQualifier();
+        
+        /**
+         * True if has "Qualifier" attribute
+         */
+        boolean isSetQualifier();
+        
+        /**
+         * Sets the "Qualifier" attribute
+         */
+        void setQualifier(org.tranxml.tranXML.version40.CodeList187.Enum qualifier);
+        
+        /**
+         * Sets (as xml) the "Qualifier" attribute
+         */
+        void xsetQualifier(org.tranxml.tranXML.version40.CodeList187 qualifier);
+        
+        /**
+         * Unsets the "Qualifier" attribute
+         */
+        void unsetQualifier();
+        
+        /**
+         * Gets the "WeightUnitCode" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList188.Enum getWeightUnitCode();
+        
+        /**
+         * Gets (as xml) the "WeightUnitCode" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList188 xgetWeightUnitCode();
+        
+        /**
+         * True if has "WeightUnitCode" attribute
+         */
+        boolean isSetWeightUnitCode();
+        
+        /**
+         * Sets the "WeightUnitCode" attribute
+         */
+        void setWeightUnitCode(org.tranxml.tranXML.version40.CodeList188.Enum weightUnitCode);
+        
+        /**
+         * Sets (as xml) the "WeightUnitCode" attribute
+         */
+        void xsetWeightUnitCode(org.tranxml.tranXML.version40.CodeList188 weightUnitCode);
+        
+        /**
+         * Unsets the "WeightUnitCode" attribute
+         */
+        void unsetWeightUnitCode();
+        
+        /**
+         * Gets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList355.Enum getUnitOrBasisForMeasurementCode();
+        
+        /**
+         * Gets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        org.tranxml.tranXML.version40.CodeList355 xgetUnitOrBasisForMeasurementCode();
+        
+        /**
+         * True if has "UnitOrBasisForMeasurementCode" attribute
+         */
+        boolean isSetUnitOrBasisForMeasurementCode();
+        
+        /**
+         * Sets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        void setUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355.Enum unitOrBasisForMeasurementCode);
+        
+        /**
+         * Sets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        void xsetUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355 unitOrBasisForMeasurementCode);
+        
+        /**
+         * Unsets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        void unsetUnitOrBasisForMeasurementCode();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.tranxml.tranXML.version40.WeightDocument.Weight newInstance() {
+              return (org.tranxml.tranXML.version40.WeightDocument.Weight) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.tranxml.tranXML.version40.WeightDocument.Weight newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.tranxml.tranXML.version40.WeightDocument.Weight) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.tranxml.tranXML.version40.WeightDocument newInstance() {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.tranxml.tranXML.version40.WeightDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.WeightDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.tranxml.tranXML.version40.WeightDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.tranxml.tranXML.version40.WeightDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: AAR_CarGradeCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.AARCarGradeCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one AAR_CarGradeCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class AARCarGradeCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.AARCarGradeCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AARCarGradeCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AARCARGRADECODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "AAR_CarGradeCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1175777277:
+                if (name.equals(AARCARGRADECODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AAR_CarGradeCode" element
+     */
+    public java.lang.String getAARCarGradeCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AARCARGRADECODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "AAR_CarGradeCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAARCarGradeCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AARCARGRADECODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AAR_CarGradeCode" element
+     */
+    public void setAARCarGradeCode(java.lang.String aarCarGradeCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AARCARGRADECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AARCARGRADECODE$0);
+            }
+            target.setStringValue(aarCarGradeCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "AAR_CarGradeCode" element
+     */
+    public void xsetAARCarGradeCode(org.apache.xmlbeans.XmlString aarCarGradeCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AARCARGRADECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AARCARGRADECODE$0);
+            }
+            target.set(aarCarGradeCode);
+        }
+    }
+}
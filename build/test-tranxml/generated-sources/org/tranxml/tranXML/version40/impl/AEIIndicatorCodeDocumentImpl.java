@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: AEI_IndicatorCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.AEIIndicatorCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one AEI_IndicatorCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class AEIIndicatorCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.AEIIndicatorCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AEIIndicatorCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AEIINDICATORCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "AEI_IndicatorCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -731596190:
+                if (name.equals(AEIINDICATORCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AEI_IndicatorCode" element
+     */
+    public java.lang.String getAEIIndicatorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AEIINDICATORCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "AEI_IndicatorCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAEIIndicatorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AEIINDICATORCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AEI_IndicatorCode" element
+     */
+    public void setAEIIndicatorCode(java.lang.String aeiIndicatorCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AEIINDICATORCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AEIINDICATORCODE$0);
+            }
+            target.setStringValue(aeiIndicatorCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "AEI_IndicatorCode" element
+     */
+    public void xsetAEIIndicatorCode(org.apache.xmlbeans.XmlString aeiIndicatorCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AEIINDICATORCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AEIINDICATORCODE$0);
+            }
+            target.set(aeiIndicatorCode);
+        }
+    }
+}
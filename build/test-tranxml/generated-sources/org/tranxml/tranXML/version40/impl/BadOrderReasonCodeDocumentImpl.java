@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: BadOrderReasonCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.BadOrderReasonCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one BadOrderReasonCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class BadOrderReasonCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.BadOrderReasonCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BadOrderReasonCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BADORDERREASONCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "BadOrderReasonCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -832120422:
+                if (name.equals(BADORDERREASONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "BadOrderReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1488.Enum getBadOrderReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList1488.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "BadOrderReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1488 xgetBadOrderReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1488 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1488)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "BadOrderReasonCode" element
+     */
+    public void setBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488.Enum badOrderReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BADORDERREASONCODE$0);
+            }
+            target.setEnumValue(badOrderReasonCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "BadOrderReasonCode" element
+     */
+    public void xsetBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488 badOrderReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1488 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1488)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList1488)get_store().add_element_user(BADORDERREASONCODE$0);
+            }
+            target.set(badOrderReasonCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: CLM_SightingCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMSightingCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one CLM_SightingCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CLMSightingCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CLMSightingCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CLMSightingCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CLMSIGHTINGCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CLM_SightingCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1000569811:
+                if (name.equals(CLMSIGHTINGCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CLM_SightingCode" element
+     */
+    public org.tranxml.tranXML.version40.CLMSightingCodeList.Enum getCLMSightingCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CLMSIGHTINGCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CLMSightingCodeList.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CLM_SightingCode" element
+     */
+    public org.tranxml.tranXML.version40.CLMSightingCodeList xgetCLMSightingCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CLMSightingCodeList target = null;
+            target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().find_element_user(CLMSIGHTINGCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CLM_SightingCode" element
+     */
+    public void setCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList.Enum clmSightingCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CLMSIGHTINGCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CLMSIGHTINGCODE$0);
+            }
+            target.setEnumValue(clmSightingCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CLM_SightingCode" element
+     */
+    public void xsetCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList clmSightingCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CLMSightingCodeList target = null;
+            target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().find_element_user(CLMSIGHTINGCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().add_element_user(CLMSIGHTINGCODE$0);
+            }
+            target.set(clmSightingCode);
+        }
+    }
+}
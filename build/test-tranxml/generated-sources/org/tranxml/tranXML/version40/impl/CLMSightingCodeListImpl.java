@@ -0,0 +1,27 @@
+/*
+ * XML Type:  CLM_SightingCodeList
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMSightingCodeList
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * An XML CLM_SightingCodeList(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CLMSightingCodeList.
+ */
+public class CLMSightingCodeListImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.tranxml.tranXML.version40.CLMSightingCodeList
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CLMSightingCodeListImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CLMSightingCodeListImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  CLM_TransactionCodeList
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMTransactionCodeList
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * An XML CLM_TransactionCodeList(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CLMTransactionCodeList.
+ */
+public class CLMTransactionCodeListImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.tranxml.tranXML.version40.CLMTransactionCodeList
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CLMTransactionCodeListImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CLMTransactionCodeListImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
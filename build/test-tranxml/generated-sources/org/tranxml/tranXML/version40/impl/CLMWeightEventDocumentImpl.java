@@ -0,0 +1,480 @@
+/*
+ * An XML document type.
+ * Localname: CLM_WeightEvent
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CLMWeightEventDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one CLM_WeightEvent(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CLMWeightEventDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CLMWeightEventDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CLMWeightEventDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CLMWEIGHTEVENT$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CLM_WeightEvent");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 141864999:
+                if (name.equals(CLMWEIGHTEVENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CLM_WeightEvent" element
+     */
+    public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent getCLMWeightEvent()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent target = null;
+            target = (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent)get_store().find_element_user(CLMWEIGHTEVENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CLM_WeightEvent" element
+     */
+    public void setCLMWeightEvent(org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent clmWeightEvent)
+    {
+        generatedSetterHelperImpl(clmWeightEvent, CLMWEIGHTEVENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "CLM_WeightEvent" element
+     */
+    public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent addNewCLMWeightEvent()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent target = null;
+            target = (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent)get_store().add_element_user(CLMWEIGHTEVENT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML CLM_WeightEvent(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class CLMWeightEventImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CLMWeightEventImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName EQUIPMENTSTRUCTURE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStructure");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Date");
+        private static final javax.xml.namespace.QName GEOGRAPHICLOCATION$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "GeographicLocation");
+        private static final javax.xml.namespace.QName WEIGHT$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Weight");
+        private static final javax.xml.namespace.QName WAYBILLDATE$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "WaybillDate");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(5);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1707725160:
+                    if (name.equals(WEIGHT$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 2122702:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 432787308:
+                    if (name.equals(GEOGRAPHICLOCATION$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 477725605:
+                    if (name.equals(EQUIPMENTSTRUCTURE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 1927561252:
+                    if (name.equals(WAYBILLDATE$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().find_element_user(EQUIPMENTSTRUCTURE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentStructure" element
+         */
+        public void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure)
+        {
+            generatedSetterHelperImpl(equipmentStructure, EQUIPMENTSTRUCTURE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().add_element_user(EQUIPMENTSTRUCTURE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "Date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$2);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().find_element_user(GEOGRAPHICLOCATION$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        public void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation)
+        {
+            generatedSetterHelperImpl(geographicLocation, GEOGRAPHICLOCATION$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().add_element_user(GEOGRAPHICLOCATION$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "Weight" elements
+         */
+        public org.tranxml.tranXML.version40.WeightDocument.Weight[] getWeightArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(WEIGHT$6, targetList);
+                org.tranxml.tranXML.version40.WeightDocument.Weight[] result = new org.tranxml.tranXML.version40.WeightDocument.Weight[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "Weight" element
+         */
+        public org.tranxml.tranXML.version40.WeightDocument.Weight getWeightArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.WeightDocument.Weight target = null;
+                target = (org.tranxml.tranXML.version40.WeightDocument.Weight)get_store().find_element_user(WEIGHT$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "Weight" element
+         */
+        public int sizeOfWeightArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(WEIGHT$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "Weight" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setWeightArray(org.tranxml.tranXML.version40.WeightDocument.Weight[] weightArray)
+        {
+            check_orphaned();
+            arraySetterHelper(weightArray, WEIGHT$6);
+        }
+        
+        /**
+         * Sets ith "Weight" element
+         */
+        public void setWeightArray(int i, org.tranxml.tranXML.version40.WeightDocument.Weight weight)
+        {
+            generatedSetterHelperImpl(weight, WEIGHT$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "Weight" element
+         */
+        public org.tranxml.tranXML.version40.WeightDocument.Weight insertNewWeight(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.WeightDocument.Weight target = null;
+                target = (org.tranxml.tranXML.version40.WeightDocument.Weight)get_store().insert_element_user(WEIGHT$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "Weight" element
+         */
+        public org.tranxml.tranXML.version40.WeightDocument.Weight addNewWeight()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.WeightDocument.Weight target = null;
+                target = (org.tranxml.tranXML.version40.WeightDocument.Weight)get_store().add_element_user(WEIGHT$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "Weight" element
+         */
+        public void removeWeight(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(WEIGHT$6, i);
+            }
+        }
+        
+        /**
+         * Gets the "WaybillDate" element
+         */
+        public java.util.Calendar getWaybillDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WAYBILLDATE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "WaybillDate" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetWaybillDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(WAYBILLDATE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "WaybillDate" element
+         */
+        public boolean isSetWaybillDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(WAYBILLDATE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "WaybillDate" element
+         */
+        public void setWaybillDate(java.util.Calendar waybillDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WAYBILLDATE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WAYBILLDATE$8);
+                }
+                target.setCalendarValue(waybillDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "WaybillDate" element
+         */
+        public void xsetWaybillDate(org.apache.xmlbeans.XmlDate waybillDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(WAYBILLDATE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(WAYBILLDATE$8);
+                }
+                target.set(waybillDate);
+            }
+        }
+        
+        /**
+         * Unsets the "WaybillDate" element
+         */
+        public void unsetWaybillDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(WAYBILLDATE$8, 0);
+            }
+        }
+    }
+}
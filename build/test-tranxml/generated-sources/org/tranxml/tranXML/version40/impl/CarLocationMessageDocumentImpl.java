@@ -0,0 +1,707 @@
+/*
+ * An XML document type.
+ * Localname: CarLocationMessage
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CarLocationMessageDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one CarLocationMessage(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CarLocationMessageDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CarLocationMessageDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CarLocationMessageDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CARLOCATIONMESSAGE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CarLocationMessage");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1796908094:
+                if (name.equals(CARLOCATIONMESSAGE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CarLocationMessage" element
+     */
+    public org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage getCarLocationMessage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage target = null;
+            target = (org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage)get_store().find_element_user(CARLOCATIONMESSAGE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CarLocationMessage" element
+     */
+    public void setCarLocationMessage(org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage carLocationMessage)
+    {
+        generatedSetterHelperImpl(carLocationMessage, CARLOCATIONMESSAGE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "CarLocationMessage" element
+     */
+    public org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage addNewCarLocationMessage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage target = null;
+            target = (org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage)get_store().add_element_user(CARLOCATIONMESSAGE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML CarLocationMessage(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class CarLocationMessageImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CarLocationMessageDocument.CarLocationMessage
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CarLocationMessageImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FLEETID$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FleetID");
+        private static final javax.xml.namespace.QName STANDARDCARRIERALPHACODE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "StandardCarrierAlphaCode");
+        private static final javax.xml.namespace.QName EVENTSTATUS$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EventStatus");
+        private static final javax.xml.namespace.QName CLMWEIGHTEVENT$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CLM_WeightEvent");
+        private static final javax.xml.namespace.QName USEREXTENSIONS$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "UserExtensions");
+        private static final javax.xml.namespace.QName TRANSACTION$10 = 
+            new javax.xml.namespace.QName("", "Transaction");
+        private static final javax.xml.namespace.QName VERSION$12 = 
+            new javax.xml.namespace.QName("", "Version");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(5);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -2056913313:
+                    if (name.equals(USEREXTENSIONS$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 141864999:
+                    if (name.equals(CLMWEIGHTEVENT$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 213449040:
+                    if (name.equals(STANDARDCARRIERALPHACODE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 889094857:
+                    if (name.equals(FLEETID$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 1774517004:
+                    if (name.equals(EVENTSTATUS$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "FleetID" element
+         */
+        public java.lang.String getFleetID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLEETID$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "FleetID" element
+         */
+        public org.apache.xmlbeans.XmlString xgetFleetID()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FLEETID$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "FleetID" element
+         */
+        public void setFleetID(java.lang.String fleetID)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLEETID$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FLEETID$0);
+                }
+                target.setStringValue(fleetID);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "FleetID" element
+         */
+        public void xsetFleetID(org.apache.xmlbeans.XmlString fleetID)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FLEETID$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FLEETID$0);
+                }
+                target.set(fleetID);
+            }
+        }
+        
+        /**
+         * Gets the "StandardCarrierAlphaCode" element
+         */
+        public java.lang.String getStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "StandardCarrierAlphaCode" element
+         */
+        public void setStandardCarrierAlphaCode(java.lang.String standardCarrierAlphaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STANDARDCARRIERALPHACODE$2);
+                }
+                target.setStringValue(standardCarrierAlphaCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        public void xsetStandardCarrierAlphaCode(org.apache.xmlbeans.XmlString standardCarrierAlphaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STANDARDCARRIERALPHACODE$2);
+                }
+                target.set(standardCarrierAlphaCode);
+            }
+        }
+        
+        /**
+         * Gets array of all "EventStatus" elements
+         */
+        public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[] getEventStatusArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(EVENTSTATUS$4, targetList);
+                org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[] result = new org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "EventStatus" element
+         */
+        public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus getEventStatusArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EventStatusDocument.EventStatus target = null;
+                target = (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus)get_store().find_element_user(EVENTSTATUS$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "EventStatus" element
+         */
+        public int sizeOfEventStatusArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EVENTSTATUS$4);
+            }
+        }
+        
+        /**
+         * Sets array of all "EventStatus" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setEventStatusArray(org.tranxml.tranXML.version40.EventStatusDocument.EventStatus[] eventStatusArray)
+        {
+            check_orphaned();
+            arraySetterHelper(eventStatusArray, EVENTSTATUS$4);
+        }
+        
+        /**
+         * Sets ith "EventStatus" element
+         */
+        public void setEventStatusArray(int i, org.tranxml.tranXML.version40.EventStatusDocument.EventStatus eventStatus)
+        {
+            generatedSetterHelperImpl(eventStatus, EVENTSTATUS$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "EventStatus" element
+         */
+        public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus insertNewEventStatus(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EventStatusDocument.EventStatus target = null;
+                target = (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus)get_store().insert_element_user(EVENTSTATUS$4, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "EventStatus" element
+         */
+        public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus addNewEventStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EventStatusDocument.EventStatus target = null;
+                target = (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus)get_store().add_element_user(EVENTSTATUS$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "EventStatus" element
+         */
+        public void removeEventStatus(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EVENTSTATUS$4, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "CLM_WeightEvent" elements
+         */
+        public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[] getCLMWeightEventArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(CLMWEIGHTEVENT$6, targetList);
+                org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[] result = new org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "CLM_WeightEvent" element
+         */
+        public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent getCLMWeightEventArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent target = null;
+                target = (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent)get_store().find_element_user(CLMWEIGHTEVENT$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "CLM_WeightEvent" element
+         */
+        public int sizeOfCLMWeightEventArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CLMWEIGHTEVENT$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "CLM_WeightEvent" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setCLMWeightEventArray(org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent[] clmWeightEventArray)
+        {
+            check_orphaned();
+            arraySetterHelper(clmWeightEventArray, CLMWEIGHTEVENT$6);
+        }
+        
+        /**
+         * Sets ith "CLM_WeightEvent" element
+         */
+        public void setCLMWeightEventArray(int i, org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent clmWeightEvent)
+        {
+            generatedSetterHelperImpl(clmWeightEvent, CLMWEIGHTEVENT$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "CLM_WeightEvent" element
+         */
+        public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent insertNewCLMWeightEvent(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent target = null;
+                target = (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent)get_store().insert_element_user(CLMWEIGHTEVENT$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "CLM_WeightEvent" element
+         */
+        public org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent addNewCLMWeightEvent()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent target = null;
+                target = (org.tranxml.tranXML.version40.CLMWeightEventDocument.CLMWeightEvent)get_store().add_element_user(CLMWEIGHTEVENT$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "CLM_WeightEvent" element
+         */
+        public void removeCLMWeightEvent(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CLMWEIGHTEVENT$6, i);
+            }
+        }
+        
+        /**
+         * Gets the "UserExtensions" element
+         */
+        public org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions getUserExtensions()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions target = null;
+                target = (org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions)get_store().find_element_user(USEREXTENSIONS$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "UserExtensions" element
+         */
+        public boolean isSetUserExtensions()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(USEREXTENSIONS$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "UserExtensions" element
+         */
+        public void setUserExtensions(org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions userExtensions)
+        {
+            generatedSetterHelperImpl(userExtensions, USEREXTENSIONS$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "UserExtensions" element
+         */
+        public org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions addNewUserExtensions()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions target = null;
+                target = (org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions)get_store().add_element_user(USEREXTENSIONS$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "UserExtensions" element
+         */
+        public void unsetUserExtensions()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(USEREXTENSIONS$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Transaction" attribute
+         */
+        public org.tranxml.tranXML.version40.CLMTransactionCodeList.Enum getTransaction()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TRANSACTION$10);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CLMTransactionCodeList.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Transaction" attribute
+         */
+        public org.tranxml.tranXML.version40.CLMTransactionCodeList xgetTransaction()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMTransactionCodeList target = null;
+                target = (org.tranxml.tranXML.version40.CLMTransactionCodeList)get_store().find_attribute_user(TRANSACTION$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Transaction" attribute
+         */
+        public void setTransaction(org.tranxml.tranXML.version40.CLMTransactionCodeList.Enum transaction)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TRANSACTION$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TRANSACTION$10);
+                }
+                target.setEnumValue(transaction);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Transaction" attribute
+         */
+        public void xsetTransaction(org.tranxml.tranXML.version40.CLMTransactionCodeList transaction)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMTransactionCodeList target = null;
+                target = (org.tranxml.tranXML.version40.CLMTransactionCodeList)get_store().find_attribute_user(TRANSACTION$10);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CLMTransactionCodeList)get_store().add_attribute_user(TRANSACTION$10);
+                }
+                target.set(transaction);
+            }
+        }
+        
+        /**
+         * Gets the "Version" attribute
+         */
+        public java.lang.String getVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$12);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Version" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(VERSION$12);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Version" attribute
+         */
+        public boolean isSetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(VERSION$12) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Version" attribute
+         */
+        public void setVersion(java.lang.String version)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$12);
+                }
+                target.setStringValue(version);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Version" attribute
+         */
+        public void xsetVersion(org.apache.xmlbeans.XmlString version)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(VERSION$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(VERSION$12);
+                }
+                target.set(version);
+            }
+        }
+        
+        /**
+         * Unsets the "Version" attribute
+         */
+        public void unsetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(VERSION$12);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * An XML document type.
+ * Localname: CityName
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CityNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one CityName(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CityNameDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CityNameDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CityNameDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITYNAME$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CityName");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1357037898:
+                if (name.equals(CITYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CityName" element
+     */
+    public org.tranxml.tranXML.version40.CityNameDocument.CityName getCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CityNameDocument.CityName target = null;
+            target = (org.tranxml.tranXML.version40.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CityName" element
+     */
+    public void setCityName(org.tranxml.tranXML.version40.CityNameDocument.CityName cityName)
+    {
+        generatedSetterHelperImpl(cityName, CITYNAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "CityName" element
+     */
+    public org.tranxml.tranXML.version40.CityNameDocument.CityName addNewCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CityNameDocument.CityName target = null;
+            target = (org.tranxml.tranXML.version40.CityNameDocument.CityName)get_store().add_element_user(CITYNAME$0);
+            return target;
+        }
+    }
+    /**
+     * An XML CityName(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CityNameDocument$CityName.
+     */
+    public static class CityNameImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.tranxml.tranXML.version40.CityNameDocument.CityName
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CityNameImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected CityNameImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName CITYNAMEQUALIFIERCODE$0 = 
+            new javax.xml.namespace.QName("", "CityNameQualifierCode");
+        
+        
+        /**
+         * Gets the "CityNameQualifierCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList575.Enum getCityNameQualifierCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList575.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CityNameQualifierCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList575 xgetCityNameQualifierCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList575 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList575)get_store().find_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CityNameQualifierCode" attribute
+         */
+        public boolean isSetCityNameQualifierCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(CITYNAMEQUALIFIERCODE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "CityNameQualifierCode" attribute
+         */
+        public void setCityNameQualifierCode(org.tranxml.tranXML.version40.CodeList575.Enum cityNameQualifierCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                }
+                target.setEnumValue(cityNameQualifierCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CityNameQualifierCode" attribute
+         */
+        public void xsetCityNameQualifierCode(org.tranxml.tranXML.version40.CodeList575 cityNameQualifierCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList575 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList575)get_store().find_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList575)get_store().add_attribute_user(CITYNAMEQUALIFIERCODE$0);
+                }
+                target.set(cityNameQualifierCode);
+            }
+        }
+        
+        /**
+         * Unsets the "CityNameQualifierCode" attribute
+         */
+        public void unsetCityNameQualifierCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(CITYNAMEQUALIFIERCODE$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * An XML document type.
+ * Localname: Code
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one Code(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Code");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2105869:
+                if (name.equals(CODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Code" element
+     */
+    public org.tranxml.tranXML.version40.CodeDocument.Code getCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeDocument.Code target = null;
+            target = (org.tranxml.tranXML.version40.CodeDocument.Code)get_store().find_element_user(CODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Code" element
+     */
+    public void setCode(org.tranxml.tranXML.version40.CodeDocument.Code code)
+    {
+        generatedSetterHelperImpl(code, CODE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Code" element
+     */
+    public org.tranxml.tranXML.version40.CodeDocument.Code addNewCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeDocument.Code target = null;
+            target = (org.tranxml.tranXML.version40.CodeDocument.Code)get_store().add_element_user(CODE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Code(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeDocument$Code.
+     */
+    public static class CodeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.tranxml.tranXML.version40.CodeDocument.Code
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CodeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected CodeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName DOMAIN$0 = 
+            new javax.xml.namespace.QName("", "Domain");
+        
+        
+        /**
+         * Gets the "Domain" attribute
+         */
+        public java.lang.String getDomain()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DOMAIN$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Domain" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetDomain()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DOMAIN$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Domain" attribute
+         */
+        public boolean isSetDomain()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DOMAIN$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Domain" attribute
+         */
+        public void setDomain(java.lang.String domain)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DOMAIN$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DOMAIN$0);
+                }
+                target.setStringValue(domain);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Domain" attribute
+         */
+        public void xsetDomain(org.apache.xmlbeans.XmlString domain)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DOMAIN$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(DOMAIN$0);
+                }
+                target.set(domain);
+            }
+        }
+        
+        /**
+         * Unsets the "Domain" attribute
+         */
+        public void unsetDomain()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DOMAIN$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  CodeList1650
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CodeList1650
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * An XML CodeList1650(@http://www.tranxml.org/TranXML/Version4.0).
+ *
+ * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.CodeList1650.
+ */
+public class CodeList1650Impl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.tranxml.tranXML.version40.CodeList1650
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CodeList1650Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CodeList1650Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
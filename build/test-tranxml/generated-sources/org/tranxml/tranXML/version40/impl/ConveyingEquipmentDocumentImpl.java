@@ -0,0 +1,153 @@
+/*
+ * An XML document type.
+ * Localname: ConveyingEquipment
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ConveyingEquipmentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one ConveyingEquipment(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class ConveyingEquipmentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ConveyingEquipmentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConveyingEquipmentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONVEYINGEQUIPMENT$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ConveyingEquipment");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1084454188:
+                if (name.equals(CONVEYINGEQUIPMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ConveyingEquipment" element
+     */
+    public org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment getConveyingEquipment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment target = null;
+            target = (org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment)get_store().find_element_user(CONVEYINGEQUIPMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ConveyingEquipment" element
+     */
+    public void setConveyingEquipment(org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment conveyingEquipment)
+    {
+        generatedSetterHelperImpl(conveyingEquipment, CONVEYINGEQUIPMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ConveyingEquipment" element
+     */
+    public org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment addNewConveyingEquipment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment target = null;
+            target = (org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment)get_store().add_element_user(CONVEYINGEQUIPMENT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML ConveyingEquipment(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class ConveyingEquipmentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ConveyingEquipmentImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName EQUIPMENTSTRUCTURE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStructure");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 477725605:
+                    if (name.equals(EQUIPMENTSTRUCTURE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().find_element_user(EQUIPMENTSTRUCTURE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentStructure" element
+         */
+        public void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure)
+        {
+            generatedSetterHelperImpl(equipmentStructure, EQUIPMENTSTRUCTURE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().add_element_user(EQUIPMENTSTRUCTURE$0);
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: CountrySubdivisionCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.CountrySubdivisionCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one CountrySubdivisionCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class CountrySubdivisionCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.CountrySubdivisionCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CountrySubdivisionCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COUNTRYSUBDIVISIONCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CountrySubdivisionCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -886783964:
+                if (name.equals(COUNTRYSUBDIVISIONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CountrySubdivisionCode" element
+     */
+    public java.lang.String getCountrySubdivisionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CountrySubdivisionCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCountrySubdivisionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CountrySubdivisionCode" element
+     */
+    public void setCountrySubdivisionCode(java.lang.String countrySubdivisionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COUNTRYSUBDIVISIONCODE$0);
+            }
+            target.setStringValue(countrySubdivisionCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CountrySubdivisionCode" element
+     */
+    public void xsetCountrySubdivisionCode(org.apache.xmlbeans.XmlString countrySubdivisionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COUNTRYSUBDIVISIONCODE$0);
+            }
+            target.set(countrySubdivisionCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DateTimePeriod
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.DateTimePeriodDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one DateTimePeriod(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class DateTimePeriodDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.DateTimePeriodDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateTimePeriodDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DATETIMEPERIOD$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "DateTimePeriod");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 963706204:
+                if (name.equals(DATETIMEPERIOD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DateTimePeriod" element
+     */
+    public org.apache.xmlbeans.GDuration getDateTimePeriod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEPERIOD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getGDurationValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DateTimePeriod" element
+     */
+    public org.apache.xmlbeans.XmlDuration xgetDateTimePeriod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDuration target = null;
+            target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DATETIMEPERIOD$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DateTimePeriod" element
+     */
+    public void setDateTimePeriod(org.apache.xmlbeans.GDuration dateTimePeriod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEPERIOD$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATETIMEPERIOD$0);
+            }
+            target.setGDurationValue(dateTimePeriod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DateTimePeriod" element
+     */
+    public void xsetDateTimePeriod(org.apache.xmlbeans.XmlDuration dateTimePeriod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDuration target = null;
+            target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DATETIMEPERIOD$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDuration)get_store().add_element_user(DATETIMEPERIOD$0);
+            }
+            target.set(dateTimePeriod);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: DescriptionCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.DescriptionCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one DescriptionCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class DescriptionCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.DescriptionCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DescriptionCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTIONCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "DescriptionCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -11665431:
+                if (name.equals(DESCRIPTIONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "DescriptionCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList40.Enum getDescriptionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTIONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList40.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DescriptionCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList40 xgetDescriptionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList40 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList40)get_store().find_element_user(DESCRIPTIONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "DescriptionCode" element
+     */
+    public void setDescriptionCode(org.tranxml.tranXML.version40.CodeList40.Enum descriptionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTIONCODE$0);
+            }
+            target.setEnumValue(descriptionCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DescriptionCode" element
+     */
+    public void xsetDescriptionCode(org.tranxml.tranXML.version40.CodeList40 descriptionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList40 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList40)get_store().find_element_user(DESCRIPTIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList40)get_store().add_element_user(DESCRIPTIONCODE$0);
+            }
+            target.set(descriptionCode);
+        }
+    }
+}
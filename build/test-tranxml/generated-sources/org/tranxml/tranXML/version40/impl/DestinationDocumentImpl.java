@@ -0,0 +1,345 @@
+/*
+ * An XML document type.
+ * Localname: Destination
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.DestinationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one Destination(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class DestinationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.DestinationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DestinationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESTINATION$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Destination");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 238021614:
+                if (name.equals(DESTINATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Destination" element
+     */
+    public org.tranxml.tranXML.version40.DestinationDocument.Destination getDestination()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.DestinationDocument.Destination target = null;
+            target = (org.tranxml.tranXML.version40.DestinationDocument.Destination)get_store().find_element_user(DESTINATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Destination" element
+     */
+    public void setDestination(org.tranxml.tranXML.version40.DestinationDocument.Destination destination)
+    {
+        generatedSetterHelperImpl(destination, DESTINATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Destination" element
+     */
+    public org.tranxml.tranXML.version40.DestinationDocument.Destination addNewDestination()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.DestinationDocument.Destination target = null;
+            target = (org.tranxml.tranXML.version40.DestinationDocument.Destination)get_store().add_element_user(DESTINATION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Destination(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class DestinationImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.DestinationDocument.Destination
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DestinationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FREIGHTSTATIONACCOUNTINGCODE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FreightStationAccountingCode");
+        private static final javax.xml.namespace.QName GEOGRAPHICLOCATION$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "GeographicLocation");
+        private static final javax.xml.namespace.QName SEGMENTID$4 = 
+            new javax.xml.namespace.QName("", "SegmentId");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 432787308:
+                    if (name.equals(GEOGRAPHICLOCATION$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 1505701139:
+                    if (name.equals(FREIGHTSTATIONACCOUNTINGCODE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "FreightStationAccountingCode" element
+         */
+        public java.lang.String getFreightStationAccountingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "FreightStationAccountingCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetFreightStationAccountingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "FreightStationAccountingCode" element
+         */
+        public boolean isSetFreightStationAccountingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FREIGHTSTATIONACCOUNTINGCODE$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "FreightStationAccountingCode" element
+         */
+        public void setFreightStationAccountingCode(java.lang.String freightStationAccountingCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FREIGHTSTATIONACCOUNTINGCODE$0);
+                }
+                target.setStringValue(freightStationAccountingCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "FreightStationAccountingCode" element
+         */
+        public void xsetFreightStationAccountingCode(org.apache.xmlbeans.XmlString freightStationAccountingCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FREIGHTSTATIONACCOUNTINGCODE$0);
+                }
+                target.set(freightStationAccountingCode);
+            }
+        }
+        
+        /**
+         * Unsets the "FreightStationAccountingCode" element
+         */
+        public void unsetFreightStationAccountingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().find_element_user(GEOGRAPHICLOCATION$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        public void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation)
+        {
+            generatedSetterHelperImpl(geographicLocation, GEOGRAPHICLOCATION$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().add_element_user(GEOGRAPHICLOCATION$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "SegmentId" attribute
+         */
+        public java.lang.String getSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEGMENTID$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SegmentId" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SEGMENTID$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SegmentId" attribute
+         */
+        public boolean isSetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(SEGMENTID$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "SegmentId" attribute
+         */
+        public void setSegmentId(java.lang.String segmentId)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEGMENTID$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SEGMENTID$4);
+                }
+                target.setStringValue(segmentId);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SegmentId" attribute
+         */
+        public void xsetSegmentId(org.apache.xmlbeans.XmlString segmentId)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SEGMENTID$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(SEGMENTID$4);
+                }
+                target.set(segmentId);
+            }
+        }
+        
+        /**
+         * Unsets the "SegmentId" attribute
+         */
+        public void unsetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(SEGMENTID$4);
+            }
+        }
+    }
+}
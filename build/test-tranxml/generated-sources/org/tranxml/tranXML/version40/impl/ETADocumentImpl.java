@@ -0,0 +1,489 @@
+/*
+ * An XML document type.
+ * Localname: ETA
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ETADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one ETA(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class ETADocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ETADocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ETADocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ETA$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ETA");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 68978:
+                if (name.equals(ETA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ETA" element
+     */
+    public org.tranxml.tranXML.version40.ETADocument.ETA getETA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.ETADocument.ETA target = null;
+            target = (org.tranxml.tranXML.version40.ETADocument.ETA)get_store().find_element_user(ETA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ETA" element
+     */
+    public void setETA(org.tranxml.tranXML.version40.ETADocument.ETA eta)
+    {
+        generatedSetterHelperImpl(eta, ETA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ETA" element
+     */
+    public org.tranxml.tranXML.version40.ETADocument.ETA addNewETA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.ETADocument.ETA target = null;
+            target = (org.tranxml.tranXML.version40.ETADocument.ETA)get_store().add_element_user(ETA$0);
+            return target;
+        }
+    }
+    /**
+     * An XML ETA(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class ETAImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ETADocument.ETA
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ETAImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName GEOGRAPHICLOCATION$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "GeographicLocation");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Date");
+        private static final javax.xml.namespace.QName TIME$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Time");
+        private static final javax.xml.namespace.QName ETACODE$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ETA_Code");
+        private static final javax.xml.namespace.QName TYPE$8 = 
+            new javax.xml.namespace.QName("", "Type");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(4);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -813538118:
+                    if (name.equals(ETACODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 2122702:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 2606829:
+                    if (name.equals(TIME$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 432787308:
+                    if (name.equals(GEOGRAPHICLOCATION$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().find_element_user(GEOGRAPHICLOCATION$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "GeographicLocation" element
+         */
+        public boolean isSetGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(GEOGRAPHICLOCATION$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        public void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation)
+        {
+            generatedSetterHelperImpl(geographicLocation, GEOGRAPHICLOCATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().add_element_user(GEOGRAPHICLOCATION$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "GeographicLocation" element
+         */
+        public void unsetGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(GEOGRAPHICLOCATION$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$2);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Gets the "Time" element
+         */
+        public org.tranxml.tranXML.version40.TimeDocument.Time getTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+                target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().find_element_user(TIME$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Time" element
+         */
+        public void setTime(org.tranxml.tranXML.version40.TimeDocument.Time time)
+        {
+            generatedSetterHelperImpl(time, TIME$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Time" element
+         */
+        public org.tranxml.tranXML.version40.TimeDocument.Time addNewTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+                target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().add_element_user(TIME$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "ETA_Code" element
+         */
+        public java.lang.String getETACode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ETACODE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ETA_Code" element
+         */
+        public org.apache.xmlbeans.XmlString xgetETACode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ETACODE$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ETA_Code" element
+         */
+        public boolean isSetETACode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ETACODE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ETA_Code" element
+         */
+        public void setETACode(java.lang.String etaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ETACODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ETACODE$6);
+                }
+                target.setStringValue(etaCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ETA_Code" element
+         */
+        public void xsetETACode(org.apache.xmlbeans.XmlString etaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ETACODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ETACODE$6);
+                }
+                target.set(etaCode);
+            }
+        }
+        
+        /**
+         * Unsets the "ETA_Code" element
+         */
+        public void unsetETACode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ETACODE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Type" attribute
+         */
+        public java.lang.String getType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$8);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Type" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TYPE$8);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Type" attribute
+         */
+        public boolean isSetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TYPE$8) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Type" attribute
+         */
+        public void setType(java.lang.String type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TYPE$8);
+                }
+                target.setStringValue(type);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Type" attribute
+         */
+        public void xsetType(org.apache.xmlbeans.XmlString type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TYPE$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TYPE$8);
+                }
+                target.set(type);
+            }
+        }
+        
+        /**
+         * Unsets the "Type" attribute
+         */
+        public void unsetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TYPE$8);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentNumber
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentNumberDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EquipmentNumber(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EquipmentNumberDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentNumberDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EquipmentNumberDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EQUIPMENTNUMBER$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentNumber");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -504528297:
+                if (name.equals(EQUIPMENTNUMBER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EquipmentNumber" element
+     */
+    public java.lang.String getEquipmentNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTNUMBER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EquipmentNumber" element
+     */
+    public org.apache.xmlbeans.XmlString xgetEquipmentNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTNUMBER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EquipmentNumber" element
+     */
+    public void setEquipmentNumber(java.lang.String equipmentNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTNUMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTNUMBER$0);
+            }
+            target.setStringValue(equipmentNumber);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EquipmentNumber" element
+     */
+    public void xsetEquipmentNumber(org.apache.xmlbeans.XmlString equipmentNumber)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTNUMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EQUIPMENTNUMBER$0);
+            }
+            target.set(equipmentNumber);
+        }
+    }
+}
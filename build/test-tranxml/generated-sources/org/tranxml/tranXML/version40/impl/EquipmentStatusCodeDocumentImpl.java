@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentStatusCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentStatusCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EquipmentStatusCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EquipmentStatusCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentStatusCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EquipmentStatusCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EQUIPMENTSTATUSCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStatusCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1986992397:
+                if (name.equals(EQUIPMENTSTATUSCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EquipmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList578.Enum getEquipmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList578.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EquipmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList578 xgetEquipmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList578 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList578)get_store().find_element_user(EQUIPMENTSTATUSCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EquipmentStatusCode" element
+     */
+    public void setEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578.Enum equipmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTSTATUSCODE$0);
+            }
+            target.setEnumValue(equipmentStatusCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EquipmentStatusCode" element
+     */
+    public void xsetEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578 equipmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList578 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList578)get_store().find_element_user(EQUIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList578)get_store().add_element_user(EQUIPMENTSTATUSCODE$0);
+            }
+            target.set(equipmentStatusCode);
+        }
+    }
+}
@@ -0,0 +1,714 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentStatus
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentStatusDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EquipmentStatus(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EquipmentStatusDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentStatusDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EquipmentStatusDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EQUIPMENTSTATUS$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStatus");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -362645760:
+                if (name.equals(EQUIPMENTSTATUS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EquipmentStatus" element
+     */
+    public org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus getEquipmentStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus target = null;
+            target = (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus)get_store().find_element_user(EQUIPMENTSTATUS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EquipmentStatus" element
+     */
+    public void setEquipmentStatus(org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus equipmentStatus)
+    {
+        generatedSetterHelperImpl(equipmentStatus, EQUIPMENTSTATUS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EquipmentStatus" element
+     */
+    public org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus addNewEquipmentStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus target = null;
+            target = (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus)get_store().add_element_user(EQUIPMENTSTATUS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML EquipmentStatus(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class EquipmentStatusImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EquipmentStatusImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName BADORDERREASONCODE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "BadOrderReasonCode");
+        private static final javax.xml.namespace.QName HOLDREASONCODE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "HoldReasonCode");
+        private static final javax.xml.namespace.QName AARCARGRADECODE$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "AAR_CarGradeCode");
+        private static final javax.xml.namespace.QName DATETIMEPERIOD$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "DateTimePeriod");
+        private static final javax.xml.namespace.QName SWITCHTYPECODE$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "SwitchTypeCode");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(5);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -832120422:
+                    if (name.equals(BADORDERREASONCODE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -78320496:
+                    if (name.equals(HOLDREASONCODE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 963706204:
+                    if (name.equals(DATETIMEPERIOD$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 1175777277:
+                    if (name.equals(AARCARGRADECODE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 1225062331:
+                    if (name.equals(SWITCHTYPECODE$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "BadOrderReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1488.Enum getBadOrderReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList1488.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "BadOrderReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1488 xgetBadOrderReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1488 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1488)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "BadOrderReasonCode" element
+         */
+        public boolean isSetBadOrderReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(BADORDERREASONCODE$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "BadOrderReasonCode" element
+         */
+        public void setBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488.Enum badOrderReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BADORDERREASONCODE$0);
+                }
+                target.setEnumValue(badOrderReasonCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "BadOrderReasonCode" element
+         */
+        public void xsetBadOrderReasonCode(org.tranxml.tranXML.version40.CodeList1488 badOrderReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1488 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1488)get_store().find_element_user(BADORDERREASONCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList1488)get_store().add_element_user(BADORDERREASONCODE$0);
+                }
+                target.set(badOrderReasonCode);
+            }
+        }
+        
+        /**
+         * Unsets the "BadOrderReasonCode" element
+         */
+        public void unsetBadOrderReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(BADORDERREASONCODE$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "HoldReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1489.Enum getHoldReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOLDREASONCODE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList1489.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "HoldReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1489 xgetHoldReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1489 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1489)get_store().find_element_user(HOLDREASONCODE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "HoldReasonCode" element
+         */
+        public boolean isSetHoldReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(HOLDREASONCODE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "HoldReasonCode" element
+         */
+        public void setHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489.Enum holdReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOLDREASONCODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOLDREASONCODE$2);
+                }
+                target.setEnumValue(holdReasonCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "HoldReasonCode" element
+         */
+        public void xsetHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489 holdReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1489 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1489)get_store().find_element_user(HOLDREASONCODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList1489)get_store().add_element_user(HOLDREASONCODE$2);
+                }
+                target.set(holdReasonCode);
+            }
+        }
+        
+        /**
+         * Unsets the "HoldReasonCode" element
+         */
+        public void unsetHoldReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(HOLDREASONCODE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "AAR_CarGradeCode" element
+         */
+        public java.lang.String getAARCarGradeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AARCARGRADECODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "AAR_CarGradeCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetAARCarGradeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AARCARGRADECODE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "AAR_CarGradeCode" element
+         */
+        public boolean isSetAARCarGradeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(AARCARGRADECODE$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "AAR_CarGradeCode" element
+         */
+        public void setAARCarGradeCode(java.lang.String aarCarGradeCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AARCARGRADECODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AARCARGRADECODE$4);
+                }
+                target.setStringValue(aarCarGradeCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "AAR_CarGradeCode" element
+         */
+        public void xsetAARCarGradeCode(org.apache.xmlbeans.XmlString aarCarGradeCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AARCARGRADECODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AARCARGRADECODE$4);
+                }
+                target.set(aarCarGradeCode);
+            }
+        }
+        
+        /**
+         * Unsets the "AAR_CarGradeCode" element
+         */
+        public void unsetAARCarGradeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(AARCARGRADECODE$4, 0);
+            }
+        }
+        
+        /**
+         * Gets array of all "DateTimePeriod" elements
+         */
+        public org.apache.xmlbeans.GDuration[] getDateTimePeriodArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATETIMEPERIOD$6, targetList);
+                org.apache.xmlbeans.GDuration[] result = new org.apache.xmlbeans.GDuration[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getGDurationValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "DateTimePeriod" element
+         */
+        public org.apache.xmlbeans.GDuration getDateTimePeriodArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEPERIOD$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getGDurationValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "DateTimePeriod" elements
+         */
+        public org.apache.xmlbeans.XmlDuration[] xgetDateTimePeriodArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATETIMEPERIOD$6, targetList);
+                org.apache.xmlbeans.XmlDuration[] result = new org.apache.xmlbeans.XmlDuration[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "DateTimePeriod" element
+         */
+        public org.apache.xmlbeans.XmlDuration xgetDateTimePeriodArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DATETIMEPERIOD$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "DateTimePeriod" element
+         */
+        public int sizeOfDateTimePeriodArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DATETIMEPERIOD$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "DateTimePeriod" element
+         */
+        public void setDateTimePeriodArray(org.apache.xmlbeans.GDuration[] dateTimePeriodArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateTimePeriodArray, DATETIMEPERIOD$6);
+            }
+        }
+        
+        /**
+         * Sets ith "DateTimePeriod" element
+         */
+        public void setDateTimePeriodArray(int i, org.apache.xmlbeans.GDuration dateTimePeriod)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIMEPERIOD$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setGDurationValue(dateTimePeriod);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "DateTimePeriod" element
+         */
+        public void xsetDateTimePeriodArray(org.apache.xmlbeans.XmlDuration[]dateTimePeriodArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateTimePeriodArray, DATETIMEPERIOD$6);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "DateTimePeriod" element
+         */
+        public void xsetDateTimePeriodArray(int i, org.apache.xmlbeans.XmlDuration dateTimePeriod)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DATETIMEPERIOD$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(dateTimePeriod);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "DateTimePeriod" element
+         */
+        public void insertDateTimePeriod(int i, org.apache.xmlbeans.GDuration dateTimePeriod)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DATETIMEPERIOD$6, i);
+                target.setGDurationValue(dateTimePeriod);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "DateTimePeriod" element
+         */
+        public void addDateTimePeriod(org.apache.xmlbeans.GDuration dateTimePeriod)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATETIMEPERIOD$6);
+                target.setGDurationValue(dateTimePeriod);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "DateTimePeriod" element
+         */
+        public org.apache.xmlbeans.XmlDuration insertNewDateTimePeriod(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().insert_element_user(DATETIMEPERIOD$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "DateTimePeriod" element
+         */
+        public org.apache.xmlbeans.XmlDuration addNewDateTimePeriod()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().add_element_user(DATETIMEPERIOD$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "DateTimePeriod" element
+         */
+        public void removeDateTimePeriod(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DATETIMEPERIOD$6, i);
+            }
+        }
+        
+        /**
+         * Gets the "SwitchTypeCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList617.Enum getSwitchTypeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SWITCHTYPECODE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList617.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SwitchTypeCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList617 xgetSwitchTypeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList617 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList617)get_store().find_element_user(SWITCHTYPECODE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SwitchTypeCode" element
+         */
+        public boolean isSetSwitchTypeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SWITCHTYPECODE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "SwitchTypeCode" element
+         */
+        public void setSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617.Enum switchTypeCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SWITCHTYPECODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SWITCHTYPECODE$8);
+                }
+                target.setEnumValue(switchTypeCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SwitchTypeCode" element
+         */
+        public void xsetSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617 switchTypeCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList617 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList617)get_store().find_element_user(SWITCHTYPECODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList617)get_store().add_element_user(SWITCHTYPECODE$8);
+                }
+                target.set(switchTypeCode);
+            }
+        }
+        
+        /**
+         * Unsets the "SwitchTypeCode" element
+         */
+        public void unsetSwitchTypeCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SWITCHTYPECODE$8, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,815 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentStructure
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentStructureDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EquipmentStructure(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EquipmentStructureDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentStructureDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EquipmentStructureDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EQUIPMENTSTRUCTURE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStructure");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 477725605:
+                if (name.equals(EQUIPMENTSTRUCTURE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EquipmentStructure" element
+     */
+    public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+            target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().find_element_user(EQUIPMENTSTRUCTURE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EquipmentStructure" element
+     */
+    public void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure)
+    {
+        generatedSetterHelperImpl(equipmentStructure, EQUIPMENTSTRUCTURE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EquipmentStructure" element
+     */
+    public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+            target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().add_element_user(EQUIPMENTSTRUCTURE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML EquipmentStructure(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class EquipmentStructureImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EquipmentStructureImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName INITIAL$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Initial");
+        private static final javax.xml.namespace.QName EQUIPMENTNUMBER$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentNumber");
+        private static final javax.xml.namespace.QName DESCRIPTIONCODE$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "DescriptionCode");
+        private static final javax.xml.namespace.QName LENGTH$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Length");
+        private static final javax.xml.namespace.QName NUMBERCHECKDIGIT$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "NumberCheckDigit");
+        private static final javax.xml.namespace.QName EQUIPMENTSTATUSCODE$10 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStatusCode");
+        private static final javax.xml.namespace.QName LOADEMPTYCODE$12 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "LoadEmptyCode");
+        private static final javax.xml.namespace.QName EQUIPMENTTYPE$14 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentType");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(8);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -2022496506:
+                    if (name.equals(LENGTH$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -1488608824:
+                    if (name.equals(EQUIPMENTTYPE$14))
+                        return ORDINAL$BASE + 7;
+                    break;
+                case -681971932:
+                    if (name.equals(INITIAL$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -504528297:
+                    if (name.equals(EQUIPMENTNUMBER$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -223756978:
+                    if (name.equals(NUMBERCHECKDIGIT$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case -11665431:
+                    if (name.equals(DESCRIPTIONCODE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 520873588:
+                    if (name.equals(LOADEMPTYCODE$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case 1986992397:
+                    if (name.equals(EQUIPMENTSTATUSCODE$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "Initial" element
+         */
+        public java.lang.String getInitial()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INITIAL$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Initial" element
+         */
+        public org.apache.xmlbeans.XmlString xgetInitial()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(INITIAL$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Initial" element
+         */
+        public void setInitial(java.lang.String initial)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INITIAL$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INITIAL$0);
+                }
+                target.setStringValue(initial);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Initial" element
+         */
+        public void xsetInitial(org.apache.xmlbeans.XmlString initial)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(INITIAL$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(INITIAL$0);
+                }
+                target.set(initial);
+            }
+        }
+        
+        /**
+         * Gets the "EquipmentNumber" element
+         */
+        public java.lang.String getEquipmentNumber()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTNUMBER$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "EquipmentNumber" element
+         */
+        public org.apache.xmlbeans.XmlString xgetEquipmentNumber()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTNUMBER$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentNumber" element
+         */
+        public void setEquipmentNumber(java.lang.String equipmentNumber)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTNUMBER$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTNUMBER$2);
+                }
+                target.setStringValue(equipmentNumber);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "EquipmentNumber" element
+         */
+        public void xsetEquipmentNumber(org.apache.xmlbeans.XmlString equipmentNumber)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTNUMBER$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EQUIPMENTNUMBER$2);
+                }
+                target.set(equipmentNumber);
+            }
+        }
+        
+        /**
+         * Gets the "DescriptionCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList40.Enum getDescriptionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTIONCODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList40.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "DescriptionCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList40 xgetDescriptionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList40 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList40)get_store().find_element_user(DESCRIPTIONCODE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "DescriptionCode" element
+         */
+        public boolean isSetDescriptionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DESCRIPTIONCODE$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "DescriptionCode" element
+         */
+        public void setDescriptionCode(org.tranxml.tranXML.version40.CodeList40.Enum descriptionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTIONCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTIONCODE$4);
+                }
+                target.setEnumValue(descriptionCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "DescriptionCode" element
+         */
+        public void xsetDescriptionCode(org.tranxml.tranXML.version40.CodeList40 descriptionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList40 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList40)get_store().find_element_user(DESCRIPTIONCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList40)get_store().add_element_user(DESCRIPTIONCODE$4);
+                }
+                target.set(descriptionCode);
+            }
+        }
+        
+        /**
+         * Unsets the "DescriptionCode" element
+         */
+        public void unsetDescriptionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DESCRIPTIONCODE$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Length" element
+         */
+        public org.tranxml.tranXML.version40.LengthDocument.Length getLength()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.LengthDocument.Length target = null;
+                target = (org.tranxml.tranXML.version40.LengthDocument.Length)get_store().find_element_user(LENGTH$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Length" element
+         */
+        public boolean isSetLength()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LENGTH$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Length" element
+         */
+        public void setLength(org.tranxml.tranXML.version40.LengthDocument.Length length)
+        {
+            generatedSetterHelperImpl(length, LENGTH$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Length" element
+         */
+        public org.tranxml.tranXML.version40.LengthDocument.Length addNewLength()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.LengthDocument.Length target = null;
+                target = (org.tranxml.tranXML.version40.LengthDocument.Length)get_store().add_element_user(LENGTH$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "Length" element
+         */
+        public void unsetLength()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LENGTH$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "NumberCheckDigit" element
+         */
+        public java.math.BigInteger getNumberCheckDigit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERCHECKDIGIT$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigIntegerValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "NumberCheckDigit" element
+         */
+        public org.apache.xmlbeans.XmlInteger xgetNumberCheckDigit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(NUMBERCHECKDIGIT$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "NumberCheckDigit" element
+         */
+        public boolean isSetNumberCheckDigit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(NUMBERCHECKDIGIT$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "NumberCheckDigit" element
+         */
+        public void setNumberCheckDigit(java.math.BigInteger numberCheckDigit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERCHECKDIGIT$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NUMBERCHECKDIGIT$8);
+                }
+                target.setBigIntegerValue(numberCheckDigit);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "NumberCheckDigit" element
+         */
+        public void xsetNumberCheckDigit(org.apache.xmlbeans.XmlInteger numberCheckDigit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(NUMBERCHECKDIGIT$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(NUMBERCHECKDIGIT$8);
+                }
+                target.set(numberCheckDigit);
+            }
+        }
+        
+        /**
+         * Unsets the "NumberCheckDigit" element
+         */
+        public void unsetNumberCheckDigit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(NUMBERCHECKDIGIT$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "EquipmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList578.Enum getEquipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTSTATUSCODE$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList578.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "EquipmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList578 xgetEquipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList578 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList578)get_store().find_element_user(EQUIPMENTSTATUSCODE$10, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "EquipmentStatusCode" element
+         */
+        public boolean isSetEquipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EQUIPMENTSTATUSCODE$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentStatusCode" element
+         */
+        public void setEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578.Enum equipmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTSTATUSCODE$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTSTATUSCODE$10);
+                }
+                target.setEnumValue(equipmentStatusCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "EquipmentStatusCode" element
+         */
+        public void xsetEquipmentStatusCode(org.tranxml.tranXML.version40.CodeList578 equipmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList578 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList578)get_store().find_element_user(EQUIPMENTSTATUSCODE$10, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList578)get_store().add_element_user(EQUIPMENTSTATUSCODE$10);
+                }
+                target.set(equipmentStatusCode);
+            }
+        }
+        
+        /**
+         * Unsets the "EquipmentStatusCode" element
+         */
+        public void unsetEquipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EQUIPMENTSTATUSCODE$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "LoadEmptyCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList322.Enum getLoadEmptyCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADEMPTYCODE$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList322.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "LoadEmptyCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList322 xgetLoadEmptyCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList322 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList322)get_store().find_element_user(LOADEMPTYCODE$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "LoadEmptyCode" element
+         */
+        public boolean isSetLoadEmptyCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOADEMPTYCODE$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "LoadEmptyCode" element
+         */
+        public void setLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322.Enum loadEmptyCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADEMPTYCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOADEMPTYCODE$12);
+                }
+                target.setEnumValue(loadEmptyCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "LoadEmptyCode" element
+         */
+        public void xsetLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322 loadEmptyCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList322 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList322)get_store().find_element_user(LOADEMPTYCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList322)get_store().add_element_user(LOADEMPTYCODE$12);
+                }
+                target.set(loadEmptyCode);
+            }
+        }
+        
+        /**
+         * Unsets the "LoadEmptyCode" element
+         */
+        public void unsetLoadEmptyCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOADEMPTYCODE$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "EquipmentType" element
+         */
+        public java.lang.String getEquipmentType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTTYPE$14, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "EquipmentType" element
+         */
+        public org.apache.xmlbeans.XmlString xgetEquipmentType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTTYPE$14, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "EquipmentType" element
+         */
+        public boolean isSetEquipmentType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EQUIPMENTTYPE$14) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentType" element
+         */
+        public void setEquipmentType(java.lang.String equipmentType)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTTYPE$14, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTTYPE$14);
+                }
+                target.setStringValue(equipmentType);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "EquipmentType" element
+         */
+        public void xsetEquipmentType(org.apache.xmlbeans.XmlString equipmentType)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTTYPE$14, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EQUIPMENTTYPE$14);
+                }
+                target.set(equipmentType);
+            }
+        }
+        
+        /**
+         * Unsets the "EquipmentType" element
+         */
+        public void unsetEquipmentType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EQUIPMENTTYPE$14, 0);
+            }
+        }
+    }
+}
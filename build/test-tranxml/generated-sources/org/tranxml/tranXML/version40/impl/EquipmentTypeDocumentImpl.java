@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: EquipmentType
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EquipmentTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EquipmentType(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EquipmentTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EquipmentTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EquipmentTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EQUIPMENTTYPE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentType");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1488608824:
+                if (name.equals(EQUIPMENTTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EquipmentType" element
+     */
+    public java.lang.String getEquipmentType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EquipmentType" element
+     */
+    public org.apache.xmlbeans.XmlString xgetEquipmentType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTTYPE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EquipmentType" element
+     */
+    public void setEquipmentType(java.lang.String equipmentType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EQUIPMENTTYPE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EQUIPMENTTYPE$0);
+            }
+            target.setStringValue(equipmentType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EquipmentType" element
+     */
+    public void xsetEquipmentType(org.apache.xmlbeans.XmlString equipmentType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EQUIPMENTTYPE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EQUIPMENTTYPE$0);
+            }
+            target.set(equipmentType);
+        }
+    }
+}
@@ -0,0 +1,765 @@
+/*
+ * An XML document type.
+ * Localname: EventStatusCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EventStatusCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EventStatusCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EventStatusCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EventStatusCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EventStatusCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EVENTSTATUSCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EventStatusCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1181173991:
+                if (name.equals(EVENTSTATUSCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EventStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode getEventStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode target = null;
+            target = (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode)get_store().find_element_user(EVENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EventStatusCode" element
+     */
+    public void setEventStatusCode(org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode eventStatusCode)
+    {
+        generatedSetterHelperImpl(eventStatusCode, EVENTSTATUSCODE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EventStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode addNewEventStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode target = null;
+            target = (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode)get_store().add_element_user(EVENTSTATUSCODE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML EventStatusCode(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class EventStatusCodeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EventStatusCodeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName RAILSTATUSCODE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "RailStatusCode");
+        private static final javax.xml.namespace.QName CLMSIGHTINGCODE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CLM_SightingCode");
+        private static final javax.xml.namespace.QName SHIPMENTSTATUSCODE$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentStatusCode");
+        private static final javax.xml.namespace.QName SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentStatusOrAppointmentOrReasonCode");
+        private static final javax.xml.namespace.QName SHIPMENTAPPOINTMENTSTATUSCODE$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentAppointmentStatusCode");
+        private static final javax.xml.namespace.QName CODE$10 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Code");
+        private static final javax.xml.namespace.QName FREEFORMDESCRIPTION$12 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FreeFormDescription");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(7);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1847361428:
+                    if (name.equals(FREEFORMDESCRIPTION$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case -1000569811:
+                    if (name.equals(CLMSIGHTINGCODE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -439748007:
+                    if (name.equals(SHIPMENTSTATUSCODE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 2105869:
+                    if (name.equals(CODE$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 538663012:
+                    if (name.equals(SHIPMENTAPPOINTMENTSTATUSCODE$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 659758980:
+                    if (name.equals(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 916115025:
+                    if (name.equals(RAILSTATUSCODE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "RailStatusCode" element
+         */
+        public java.lang.String getRailStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RAILSTATUSCODE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "RailStatusCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetRailStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RAILSTATUSCODE$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "RailStatusCode" element
+         */
+        public boolean isSetRailStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(RAILSTATUSCODE$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "RailStatusCode" element
+         */
+        public void setRailStatusCode(java.lang.String railStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RAILSTATUSCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RAILSTATUSCODE$0);
+                }
+                target.setStringValue(railStatusCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "RailStatusCode" element
+         */
+        public void xsetRailStatusCode(org.apache.xmlbeans.XmlString railStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RAILSTATUSCODE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(RAILSTATUSCODE$0);
+                }
+                target.set(railStatusCode);
+            }
+        }
+        
+        /**
+         * Unsets the "RailStatusCode" element
+         */
+        public void unsetRailStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(RAILSTATUSCODE$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "CLM_SightingCode" element
+         */
+        public org.tranxml.tranXML.version40.CLMSightingCodeList.Enum getCLMSightingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CLMSIGHTINGCODE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CLMSightingCodeList.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CLM_SightingCode" element
+         */
+        public org.tranxml.tranXML.version40.CLMSightingCodeList xgetCLMSightingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMSightingCodeList target = null;
+                target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().find_element_user(CLMSIGHTINGCODE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CLM_SightingCode" element
+         */
+        public boolean isSetCLMSightingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CLMSIGHTINGCODE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CLM_SightingCode" element
+         */
+        public void setCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList.Enum clmSightingCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CLMSIGHTINGCODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CLMSIGHTINGCODE$2);
+                }
+                target.setEnumValue(clmSightingCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CLM_SightingCode" element
+         */
+        public void xsetCLMSightingCode(org.tranxml.tranXML.version40.CLMSightingCodeList clmSightingCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CLMSightingCodeList target = null;
+                target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().find_element_user(CLMSIGHTINGCODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CLMSightingCodeList)get_store().add_element_user(CLMSIGHTINGCODE$2);
+                }
+                target.set(clmSightingCode);
+            }
+        }
+        
+        /**
+         * Unsets the "CLM_SightingCode" element
+         */
+        public void unsetCLMSightingCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CLMSIGHTINGCODE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ShipmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1650.Enum getShipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSCODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList1650.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ShipmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1650 xgetShipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1650 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1650)get_store().find_element_user(SHIPMENTSTATUSCODE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ShipmentStatusCode" element
+         */
+        public boolean isSetShipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPMENTSTATUSCODE$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ShipmentStatusCode" element
+         */
+        public void setShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650.Enum shipmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTSTATUSCODE$4);
+                }
+                target.setEnumValue(shipmentStatusCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ShipmentStatusCode" element
+         */
+        public void xsetShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650 shipmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1650 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1650)get_store().find_element_user(SHIPMENTSTATUSCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList1650)get_store().add_element_user(SHIPMENTSTATUSCODE$4);
+                }
+                target.set(shipmentStatusCode);
+            }
+        }
+        
+        /**
+         * Unsets the "ShipmentStatusCode" element
+         */
+        public void unsetShipmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHIPMENTSTATUSCODE$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1651.Enum getShipmentStatusOrAppointmentOrReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList1651.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1651 xgetShipmentStatusOrAppointmentOrReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1651 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1651)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public boolean isSetShipmentStatusOrAppointmentOrReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public void setShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651.Enum shipmentStatusOrAppointmentOrReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6);
+                }
+                target.setEnumValue(shipmentStatusOrAppointmentOrReasonCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public void xsetShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651 shipmentStatusOrAppointmentOrReasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1651 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1651)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList1651)get_store().add_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6);
+                }
+                target.set(shipmentStatusOrAppointmentOrReasonCode);
+            }
+        }
+        
+        /**
+         * Unsets the "ShipmentStatusOrAppointmentOrReasonCode" element
+         */
+        public void unsetShipmentStatusOrAppointmentOrReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ShipmentAppointmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1652.Enum getShipmentAppointmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList1652.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ShipmentAppointmentStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.CodeList1652 xgetShipmentAppointmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1652 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1652)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ShipmentAppointmentStatusCode" element
+         */
+        public boolean isSetShipmentAppointmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPMENTAPPOINTMENTSTATUSCODE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ShipmentAppointmentStatusCode" element
+         */
+        public void setShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652.Enum shipmentAppointmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8);
+                }
+                target.setEnumValue(shipmentAppointmentStatusCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ShipmentAppointmentStatusCode" element
+         */
+        public void xsetShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652 shipmentAppointmentStatusCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList1652 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList1652)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList1652)get_store().add_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$8);
+                }
+                target.set(shipmentAppointmentStatusCode);
+            }
+        }
+        
+        /**
+         * Unsets the "ShipmentAppointmentStatusCode" element
+         */
+        public void unsetShipmentAppointmentStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHIPMENTAPPOINTMENTSTATUSCODE$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Code" element
+         */
+        public org.tranxml.tranXML.version40.CodeDocument.Code getCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeDocument.Code target = null;
+                target = (org.tranxml.tranXML.version40.CodeDocument.Code)get_store().find_element_user(CODE$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Code" element
+         */
+        public boolean isSetCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CODE$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Code" element
+         */
+        public void setCode(org.tranxml.tranXML.version40.CodeDocument.Code code)
+        {
+            generatedSetterHelperImpl(code, CODE$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Code" element
+         */
+        public org.tranxml.tranXML.version40.CodeDocument.Code addNewCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeDocument.Code target = null;
+                target = (org.tranxml.tranXML.version40.CodeDocument.Code)get_store().add_element_user(CODE$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "Code" element
+         */
+        public void unsetCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CODE$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "FreeFormDescription" element
+         */
+        public java.lang.String getFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "FreeFormDescription" element
+         */
+        public org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription xgetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+                target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "FreeFormDescription" element
+         */
+        public boolean isSetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FREEFORMDESCRIPTION$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "FreeFormDescription" element
+         */
+        public void setFreeFormDescription(java.lang.String freeFormDescription)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FREEFORMDESCRIPTION$12);
+                }
+                target.setStringValue(freeFormDescription);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "FreeFormDescription" element
+         */
+        public void xsetFreeFormDescription(org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription freeFormDescription)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+                target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$12, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().add_element_user(FREEFORMDESCRIPTION$12);
+                }
+                target.set(freeFormDescription);
+            }
+        }
+        
+        /**
+         * Unsets the "FreeFormDescription" element
+         */
+        public void unsetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FREEFORMDESCRIPTION$12, 0);
+            }
+        }
+    }
+}
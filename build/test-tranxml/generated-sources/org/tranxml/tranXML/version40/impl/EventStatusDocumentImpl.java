@@ -0,0 +1,1349 @@
+/*
+ * An XML document type.
+ * Localname: EventStatus
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.EventStatusDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one EventStatus(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class EventStatusDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EventStatusDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EventStatusDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EVENTSTATUS$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EventStatus");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1774517004:
+                if (name.equals(EVENTSTATUS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "EventStatus" element
+     */
+    public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus getEventStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EventStatusDocument.EventStatus target = null;
+            target = (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus)get_store().find_element_user(EVENTSTATUS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "EventStatus" element
+     */
+    public void setEventStatus(org.tranxml.tranXML.version40.EventStatusDocument.EventStatus eventStatus)
+    {
+        generatedSetterHelperImpl(eventStatus, EVENTSTATUS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "EventStatus" element
+     */
+    public org.tranxml.tranXML.version40.EventStatusDocument.EventStatus addNewEventStatus()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.EventStatusDocument.EventStatus target = null;
+            target = (org.tranxml.tranXML.version40.EventStatusDocument.EventStatus)get_store().add_element_user(EVENTSTATUS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML EventStatus(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class EventStatusImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.EventStatusDocument.EventStatus
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EventStatusImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName EQUIPMENTSTRUCTURE$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStructure");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Date");
+        private static final javax.xml.namespace.QName TIME$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Time");
+        private static final javax.xml.namespace.QName EVENTSTATUSCODE$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EventStatusCode");
+        private static final javax.xml.namespace.QName REASONCODE$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ReasonCode");
+        private static final javax.xml.namespace.QName GEOGRAPHICLOCATION$10 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "GeographicLocation");
+        private static final javax.xml.namespace.QName STANDARDCARRIERALPHACODE$12 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "StandardCarrierAlphaCode");
+        private static final javax.xml.namespace.QName DESTINATION$14 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Destination");
+        private static final javax.xml.namespace.QName ETA$16 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ETA");
+        private static final javax.xml.namespace.QName CONVEYINGEQUIPMENT$18 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ConveyingEquipment");
+        private static final javax.xml.namespace.QName AEIINDICATORCODE$20 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "AEI_IndicatorCode");
+        private static final javax.xml.namespace.QName EQUIPMENTSTATUS$22 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "EquipmentStatus");
+        private static final javax.xml.namespace.QName POSITION$24 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Position");
+        private static final javax.xml.namespace.QName FREEFORMDESCRIPTION$26 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FreeFormDescription");
+        private static final javax.xml.namespace.QName TYPE$28 = 
+            new javax.xml.namespace.QName("", "Type");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(14);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1847361428:
+                    if (name.equals(FREEFORMDESCRIPTION$26))
+                        return ORDINAL$BASE + 13;
+                    break;
+                case -1579364751:
+                    if (name.equals(REASONCODE$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case -1181173991:
+                    if (name.equals(EVENTSTATUSCODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -1084454188:
+                    if (name.equals(CONVEYINGEQUIPMENT$18))
+                        return ORDINAL$BASE + 9;
+                    break;
+                case -731596190:
+                    if (name.equals(AEIINDICATORCODE$20))
+                        return ORDINAL$BASE + 10;
+                    break;
+                case -362645760:
+                    if (name.equals(EQUIPMENTSTATUS$22))
+                        return ORDINAL$BASE + 11;
+                    break;
+                case 68978:
+                    if (name.equals(ETA$16))
+                        return ORDINAL$BASE + 8;
+                    break;
+                case 2122702:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 2606829:
+                    if (name.equals(TIME$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 213449040:
+                    if (name.equals(STANDARDCARRIERALPHACODE$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case 238021614:
+                    if (name.equals(DESTINATION$14))
+                        return ORDINAL$BASE + 7;
+                    break;
+                case 432787308:
+                    if (name.equals(GEOGRAPHICLOCATION$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 477725605:
+                    if (name.equals(EQUIPMENTSTRUCTURE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 812449097:
+                    if (name.equals(POSITION$24))
+                        return ORDINAL$BASE + 12;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure getEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().find_element_user(EQUIPMENTSTRUCTURE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "EquipmentStructure" element
+         */
+        public boolean isSetEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EQUIPMENTSTRUCTURE$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentStructure" element
+         */
+        public void setEquipmentStructure(org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure equipmentStructure)
+        {
+            generatedSetterHelperImpl(equipmentStructure, EQUIPMENTSTRUCTURE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "EquipmentStructure" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure addNewEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStructureDocument.EquipmentStructure)get_store().add_element_user(EQUIPMENTSTRUCTURE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "EquipmentStructure" element
+         */
+        public void unsetEquipmentStructure()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EQUIPMENTSTRUCTURE$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Date" element
+         */
+        public boolean isSetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DATE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$2);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Unsets the "Date" element
+         */
+        public void unsetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DATE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Time" element
+         */
+        public org.tranxml.tranXML.version40.TimeDocument.Time getTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+                target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().find_element_user(TIME$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Time" element
+         */
+        public boolean isSetTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TIME$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Time" element
+         */
+        public void setTime(org.tranxml.tranXML.version40.TimeDocument.Time time)
+        {
+            generatedSetterHelperImpl(time, TIME$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Time" element
+         */
+        public org.tranxml.tranXML.version40.TimeDocument.Time addNewTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+                target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().add_element_user(TIME$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "Time" element
+         */
+        public void unsetTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TIME$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "EventStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode getEventStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode target = null;
+                target = (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode)get_store().find_element_user(EVENTSTATUSCODE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "EventStatusCode" element
+         */
+        public boolean isSetEventStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EVENTSTATUSCODE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "EventStatusCode" element
+         */
+        public void setEventStatusCode(org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode eventStatusCode)
+        {
+            generatedSetterHelperImpl(eventStatusCode, EVENTSTATUSCODE$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "EventStatusCode" element
+         */
+        public org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode addNewEventStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode target = null;
+                target = (org.tranxml.tranXML.version40.EventStatusCodeDocument.EventStatusCode)get_store().add_element_user(EVENTSTATUSCODE$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "EventStatusCode" element
+         */
+        public void unsetEventStatusCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EVENTSTATUSCODE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ReasonCode" element
+         */
+        public java.lang.String getReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REASONCODE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "ReasonCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(REASONCODE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ReasonCode" element
+         */
+        public boolean isSetReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(REASONCODE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ReasonCode" element
+         */
+        public void setReasonCode(java.lang.String reasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REASONCODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REASONCODE$8);
+                }
+                target.setStringValue(reasonCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "ReasonCode" element
+         */
+        public void xsetReasonCode(org.apache.xmlbeans.XmlString reasonCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(REASONCODE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(REASONCODE$8);
+                }
+                target.set(reasonCode);
+            }
+        }
+        
+        /**
+         * Unsets the "ReasonCode" element
+         */
+        public void unsetReasonCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(REASONCODE$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().find_element_user(GEOGRAPHICLOCATION$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "GeographicLocation" element
+         */
+        public boolean isSetGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(GEOGRAPHICLOCATION$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "GeographicLocation" element
+         */
+        public void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation)
+        {
+            generatedSetterHelperImpl(geographicLocation, GEOGRAPHICLOCATION$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "GeographicLocation" element
+         */
+        public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+                target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().add_element_user(GEOGRAPHICLOCATION$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "GeographicLocation" element
+         */
+        public void unsetGeographicLocation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(GEOGRAPHICLOCATION$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "StandardCarrierAlphaCode" element
+         */
+        public java.lang.String getStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "StandardCarrierAlphaCode" element
+         */
+        public boolean isSetStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STANDARDCARRIERALPHACODE$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "StandardCarrierAlphaCode" element
+         */
+        public void setStandardCarrierAlphaCode(java.lang.String standardCarrierAlphaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STANDARDCARRIERALPHACODE$12);
+                }
+                target.setStringValue(standardCarrierAlphaCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "StandardCarrierAlphaCode" element
+         */
+        public void xsetStandardCarrierAlphaCode(org.apache.xmlbeans.XmlString standardCarrierAlphaCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STANDARDCARRIERALPHACODE$12);
+                }
+                target.set(standardCarrierAlphaCode);
+            }
+        }
+        
+        /**
+         * Unsets the "StandardCarrierAlphaCode" element
+         */
+        public void unsetStandardCarrierAlphaCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STANDARDCARRIERALPHACODE$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Destination" element
+         */
+        public org.tranxml.tranXML.version40.DestinationDocument.Destination getDestination()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.DestinationDocument.Destination target = null;
+                target = (org.tranxml.tranXML.version40.DestinationDocument.Destination)get_store().find_element_user(DESTINATION$14, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Destination" element
+         */
+        public boolean isSetDestination()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DESTINATION$14) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Destination" element
+         */
+        public void setDestination(org.tranxml.tranXML.version40.DestinationDocument.Destination destination)
+        {
+            generatedSetterHelperImpl(destination, DESTINATION$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Destination" element
+         */
+        public org.tranxml.tranXML.version40.DestinationDocument.Destination addNewDestination()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.DestinationDocument.Destination target = null;
+                target = (org.tranxml.tranXML.version40.DestinationDocument.Destination)get_store().add_element_user(DESTINATION$14);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "Destination" element
+         */
+        public void unsetDestination()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DESTINATION$14, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ETA" element
+         */
+        public org.tranxml.tranXML.version40.ETADocument.ETA getETA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.ETADocument.ETA target = null;
+                target = (org.tranxml.tranXML.version40.ETADocument.ETA)get_store().find_element_user(ETA$16, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ETA" element
+         */
+        public boolean isSetETA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ETA$16) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ETA" element
+         */
+        public void setETA(org.tranxml.tranXML.version40.ETADocument.ETA eta)
+        {
+            generatedSetterHelperImpl(eta, ETA$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "ETA" element
+         */
+        public org.tranxml.tranXML.version40.ETADocument.ETA addNewETA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.ETADocument.ETA target = null;
+                target = (org.tranxml.tranXML.version40.ETADocument.ETA)get_store().add_element_user(ETA$16);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "ETA" element
+         */
+        public void unsetETA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ETA$16, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ConveyingEquipment" element
+         */
+        public org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment getConveyingEquipment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment target = null;
+                target = (org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment)get_store().find_element_user(CONVEYINGEQUIPMENT$18, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ConveyingEquipment" element
+         */
+        public boolean isSetConveyingEquipment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CONVEYINGEQUIPMENT$18) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ConveyingEquipment" element
+         */
+        public void setConveyingEquipment(org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment conveyingEquipment)
+        {
+            generatedSetterHelperImpl(conveyingEquipment, CONVEYINGEQUIPMENT$18, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "ConveyingEquipment" element
+         */
+        public org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment addNewConveyingEquipment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment target = null;
+                target = (org.tranxml.tranXML.version40.ConveyingEquipmentDocument.ConveyingEquipment)get_store().add_element_user(CONVEYINGEQUIPMENT$18);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "ConveyingEquipment" element
+         */
+        public void unsetConveyingEquipment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CONVEYINGEQUIPMENT$18, 0);
+            }
+        }
+        
+        /**
+         * Gets the "AEI_IndicatorCode" element
+         */
+        public java.lang.String getAEIIndicatorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AEIINDICATORCODE$20, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "AEI_IndicatorCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetAEIIndicatorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AEIINDICATORCODE$20, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "AEI_IndicatorCode" element
+         */
+        public boolean isSetAEIIndicatorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(AEIINDICATORCODE$20) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "AEI_IndicatorCode" element
+         */
+        public void setAEIIndicatorCode(java.lang.String aeiIndicatorCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AEIINDICATORCODE$20, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AEIINDICATORCODE$20);
+                }
+                target.setStringValue(aeiIndicatorCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "AEI_IndicatorCode" element
+         */
+        public void xsetAEIIndicatorCode(org.apache.xmlbeans.XmlString aeiIndicatorCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AEIINDICATORCODE$20, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AEIINDICATORCODE$20);
+                }
+                target.set(aeiIndicatorCode);
+            }
+        }
+        
+        /**
+         * Unsets the "AEI_IndicatorCode" element
+         */
+        public void unsetAEIIndicatorCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(AEIINDICATORCODE$20, 0);
+            }
+        }
+        
+        /**
+         * Gets the "EquipmentStatus" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus getEquipmentStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus)get_store().find_element_user(EQUIPMENTSTATUS$22, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "EquipmentStatus" element
+         */
+        public boolean isSetEquipmentStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(EQUIPMENTSTATUS$22) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "EquipmentStatus" element
+         */
+        public void setEquipmentStatus(org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus equipmentStatus)
+        {
+            generatedSetterHelperImpl(equipmentStatus, EQUIPMENTSTATUS$22, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "EquipmentStatus" element
+         */
+        public org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus addNewEquipmentStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus target = null;
+                target = (org.tranxml.tranXML.version40.EquipmentStatusDocument.EquipmentStatus)get_store().add_element_user(EQUIPMENTSTATUS$22);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "EquipmentStatus" element
+         */
+        public void unsetEquipmentStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(EQUIPMENTSTATUS$22, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Position" element
+         */
+        public java.lang.String getPosition()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSITION$24, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Position" element
+         */
+        public org.apache.xmlbeans.XmlString xgetPosition()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSITION$24, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Position" element
+         */
+        public boolean isSetPosition()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(POSITION$24) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "Position" element
+         */
+        public void setPosition(java.lang.String position)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSITION$24, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(POSITION$24);
+                }
+                target.setStringValue(position);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Position" element
+         */
+        public void xsetPosition(org.apache.xmlbeans.XmlString position)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSITION$24, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(POSITION$24);
+                }
+                target.set(position);
+            }
+        }
+        
+        /**
+         * Unsets the "Position" element
+         */
+        public void unsetPosition()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(POSITION$24, 0);
+            }
+        }
+        
+        /**
+         * Gets the "FreeFormDescription" element
+         */
+        public java.lang.String getFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$26, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "FreeFormDescription" element
+         */
+        public org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription xgetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+                target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$26, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "FreeFormDescription" element
+         */
+        public boolean isSetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FREEFORMDESCRIPTION$26) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "FreeFormDescription" element
+         */
+        public void setFreeFormDescription(java.lang.String freeFormDescription)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$26, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FREEFORMDESCRIPTION$26);
+                }
+                target.setStringValue(freeFormDescription);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "FreeFormDescription" element
+         */
+        public void xsetFreeFormDescription(org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription freeFormDescription)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+                target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$26, 0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().add_element_user(FREEFORMDESCRIPTION$26);
+                }
+                target.set(freeFormDescription);
+            }
+        }
+        
+        /**
+         * Unsets the "FreeFormDescription" element
+         */
+        public void unsetFreeFormDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FREEFORMDESCRIPTION$26, 0);
+            }
+        }
+        
+        /**
+         * Gets the "Type" attribute
+         */
+        public java.lang.String getType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$28);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Type" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TYPE$28);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Type" attribute
+         */
+        public boolean isSetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TYPE$28) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Type" attribute
+         */
+        public void setType(java.lang.String type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$28);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TYPE$28);
+                }
+                target.setStringValue(type);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Type" attribute
+         */
+        public void xsetType(org.apache.xmlbeans.XmlString type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TYPE$28);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TYPE$28);
+                }
+                target.set(type);
+            }
+        }
+        
+        /**
+         * Unsets the "Type" attribute
+         */
+        public void unsetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TYPE$28);
+            }
+        }
+    }
+}
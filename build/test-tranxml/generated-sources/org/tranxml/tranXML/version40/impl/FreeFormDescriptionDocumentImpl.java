@@ -0,0 +1,128 @@
+/*
+ * An XML document type.
+ * Localname: FreeFormDescription
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.FreeFormDescriptionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one FreeFormDescription(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class FreeFormDescriptionDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.FreeFormDescriptionDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FreeFormDescriptionDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FREEFORMDESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FreeFormDescription");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1847361428:
+                if (name.equals(FREEFORMDESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "FreeFormDescription" element
+     */
+    public java.lang.String getFreeFormDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "FreeFormDescription" element
+     */
+    public org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription xgetFreeFormDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+            target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "FreeFormDescription" element
+     */
+    public void setFreeFormDescription(java.lang.String freeFormDescription)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREEFORMDESCRIPTION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FREEFORMDESCRIPTION$0);
+            }
+            target.setStringValue(freeFormDescription);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "FreeFormDescription" element
+     */
+    public void xsetFreeFormDescription(org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription freeFormDescription)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription target = null;
+            target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().find_element_user(FREEFORMDESCRIPTION$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription)get_store().add_element_user(FREEFORMDESCRIPTION$0);
+            }
+            target.set(freeFormDescription);
+        }
+    }
+    /**
+     * An XML FreeFormDescription(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.FreeFormDescriptionDocument$FreeFormDescription.
+     */
+    public static class FreeFormDescriptionImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.tranxml.tranXML.version40.FreeFormDescriptionDocument.FreeFormDescription
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public FreeFormDescriptionImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected FreeFormDescriptionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
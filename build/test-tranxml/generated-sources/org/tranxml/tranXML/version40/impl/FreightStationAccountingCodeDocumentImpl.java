@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: FreightStationAccountingCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.FreightStationAccountingCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one FreightStationAccountingCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class FreightStationAccountingCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.FreightStationAccountingCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FreightStationAccountingCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FREIGHTSTATIONACCOUNTINGCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "FreightStationAccountingCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1505701139:
+                if (name.equals(FREIGHTSTATIONACCOUNTINGCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "FreightStationAccountingCode" element
+     */
+    public java.lang.String getFreightStationAccountingCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "FreightStationAccountingCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFreightStationAccountingCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "FreightStationAccountingCode" element
+     */
+    public void setFreightStationAccountingCode(java.lang.String freightStationAccountingCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FREIGHTSTATIONACCOUNTINGCODE$0);
+            }
+            target.setStringValue(freightStationAccountingCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "FreightStationAccountingCode" element
+     */
+    public void xsetFreightStationAccountingCode(org.apache.xmlbeans.XmlString freightStationAccountingCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FREIGHTSTATIONACCOUNTINGCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FREIGHTSTATIONACCOUNTINGCODE$0);
+            }
+            target.set(freightStationAccountingCode);
+        }
+    }
+}
@@ -0,0 +1,831 @@
+/*
+ * An XML document type.
+ * Localname: GeographicLocation
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.GeographicLocationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one GeographicLocation(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class GeographicLocationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.GeographicLocationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GeographicLocationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GEOGRAPHICLOCATION$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "GeographicLocation");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 432787308:
+                if (name.equals(GEOGRAPHICLOCATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "GeographicLocation" element
+     */
+    public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation getGeographicLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+            target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().find_element_user(GEOGRAPHICLOCATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "GeographicLocation" element
+     */
+    public void setGeographicLocation(org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation geographicLocation)
+    {
+        generatedSetterHelperImpl(geographicLocation, GEOGRAPHICLOCATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "GeographicLocation" element
+     */
+    public org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation addNewGeographicLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation target = null;
+            target = (org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation)get_store().add_element_user(GEOGRAPHICLOCATION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML GeographicLocation(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class GeographicLocationImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.GeographicLocationDocument.GeographicLocation
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public GeographicLocationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CITYNAME$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CityName");
+        private static final javax.xml.namespace.QName STATEORPROVINCECODE$2 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "StateOrProvinceCode");
+        private static final javax.xml.namespace.QName POSTALCODE$4 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "PostalCode");
+        private static final javax.xml.namespace.QName COUNTRYCODE$6 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CountryCode");
+        private static final javax.xml.namespace.QName LOCATIONIDENTIFIER$8 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "LocationIdentifier");
+        private static final javax.xml.namespace.QName SPLC$10 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "SPLC");
+        private static final javax.xml.namespace.QName COUNTRYSUBDIVISIONCODE$12 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "CountrySubdivisionCode");
+        private static final javax.xml.namespace.QName SEGMENTID$14 = 
+            new javax.xml.namespace.QName("", "SegmentId");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(7);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1357037898:
+                    if (name.equals(CITYNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -886783964:
+                    if (name.equals(COUNTRYSUBDIVISIONCODE$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case -506502767:
+                    if (name.equals(STATEORPROVINCECODE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -290349704:
+                    if (name.equals(POSTALCODE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 2551956:
+                    if (name.equals(SPLC$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 190801539:
+                    if (name.equals(COUNTRYCODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 795182686:
+                    if (name.equals(LOCATIONIDENTIFIER$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "CityName" element
+         */
+        public org.tranxml.tranXML.version40.CityNameDocument.CityName getCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CityNameDocument.CityName target = null;
+                target = (org.tranxml.tranXML.version40.CityNameDocument.CityName)get_store().find_element_user(CITYNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CityName" element
+         */
+        public boolean isSetCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CITYNAME$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CityName" element
+         */
+        public void setCityName(org.tranxml.tranXML.version40.CityNameDocument.CityName cityName)
+        {
+            generatedSetterHelperImpl(cityName, CITYNAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "CityName" element
+         */
+        public org.tranxml.tranXML.version40.CityNameDocument.CityName addNewCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CityNameDocument.CityName target = null;
+                target = (org.tranxml.tranXML.version40.CityNameDocument.CityName)get_store().add_element_user(CITYNAME$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "CityName" element
+         */
+        public void unsetCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CITYNAME$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "StateOrProvinceCode" element
+         */
+        public java.lang.String getStateOrProvinceCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATEORPROVINCECODE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "StateOrProvinceCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStateOrProvinceCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATEORPROVINCECODE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "StateOrProvinceCode" element
+         */
+        public boolean isSetStateOrProvinceCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STATEORPROVINCECODE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "StateOrProvinceCode" element
+         */
+        public void setStateOrProvinceCode(java.lang.String stateOrProvinceCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATEORPROVINCECODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATEORPROVINCECODE$2);
+                }
+                target.setStringValue(stateOrProvinceCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "StateOrProvinceCode" element
+         */
+        public void xsetStateOrProvinceCode(org.apache.xmlbeans.XmlString stateOrProvinceCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATEORPROVINCECODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATEORPROVINCECODE$2);
+                }
+                target.set(stateOrProvinceCode);
+            }
+        }
+        
+        /**
+         * Unsets the "StateOrProvinceCode" element
+         */
+        public void unsetStateOrProvinceCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STATEORPROVINCECODE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "PostalCode" element
+         */
+        public java.lang.String getPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "PostalCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "PostalCode" element
+         */
+        public boolean isSetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(POSTALCODE$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "PostalCode" element
+         */
+        public void setPostalCode(java.lang.String postalCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(POSTALCODE$4);
+                }
+                target.setStringValue(postalCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "PostalCode" element
+         */
+        public void xsetPostalCode(org.apache.xmlbeans.XmlString postalCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(POSTALCODE$4);
+                }
+                target.set(postalCode);
+            }
+        }
+        
+        /**
+         * Unsets the "PostalCode" element
+         */
+        public void unsetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(POSTALCODE$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "CountryCode" element
+         */
+        public java.lang.String getCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CountryCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CountryCode" element
+         */
+        public boolean isSetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COUNTRYCODE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CountryCode" element
+         */
+        public void setCountryCode(java.lang.String countryCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COUNTRYCODE$6);
+                }
+                target.setStringValue(countryCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CountryCode" element
+         */
+        public void xsetCountryCode(org.apache.xmlbeans.XmlString countryCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COUNTRYCODE$6);
+                }
+                target.set(countryCode);
+            }
+        }
+        
+        /**
+         * Unsets the "CountryCode" element
+         */
+        public void unsetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(COUNTRYCODE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "LocationIdentifier" element
+         */
+        public org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier getLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier target = null;
+                target = (org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier)get_store().find_element_user(LOCATIONIDENTIFIER$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "LocationIdentifier" element
+         */
+        public boolean isSetLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOCATIONIDENTIFIER$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "LocationIdentifier" element
+         */
+        public void setLocationIdentifier(org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier locationIdentifier)
+        {
+            generatedSetterHelperImpl(locationIdentifier, LOCATIONIDENTIFIER$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "LocationIdentifier" element
+         */
+        public org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier addNewLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier target = null;
+                target = (org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier)get_store().add_element_user(LOCATIONIDENTIFIER$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "LocationIdentifier" element
+         */
+        public void unsetLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOCATIONIDENTIFIER$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "SPLC" element
+         */
+        public java.lang.String getSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SPLC" element
+         */
+        public org.apache.xmlbeans.XmlString xgetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$10, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SPLC" element
+         */
+        public boolean isSetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SPLC$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "SPLC" element
+         */
+        public void setSPLC(java.lang.String splc)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SPLC$10);
+                }
+                target.setStringValue(splc);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SPLC" element
+         */
+        public void xsetSPLC(org.apache.xmlbeans.XmlString splc)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SPLC$10);
+                }
+                target.set(splc);
+            }
+        }
+        
+        /**
+         * Unsets the "SPLC" element
+         */
+        public void unsetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SPLC$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "CountrySubdivisionCode" element
+         */
+        public java.lang.String getCountrySubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CountrySubdivisionCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetCountrySubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CountrySubdivisionCode" element
+         */
+        public boolean isSetCountrySubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COUNTRYSUBDIVISIONCODE$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CountrySubdivisionCode" element
+         */
+        public void setCountrySubdivisionCode(java.lang.String countrySubdivisionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COUNTRYSUBDIVISIONCODE$12);
+                }
+                target.setStringValue(countrySubdivisionCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CountrySubdivisionCode" element
+         */
+        public void xsetCountrySubdivisionCode(org.apache.xmlbeans.XmlString countrySubdivisionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYSUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COUNTRYSUBDIVISIONCODE$12);
+                }
+                target.set(countrySubdivisionCode);
+            }
+        }
+        
+        /**
+         * Unsets the "CountrySubdivisionCode" element
+         */
+        public void unsetCountrySubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(COUNTRYSUBDIVISIONCODE$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "SegmentId" attribute
+         */
+        public java.lang.String getSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEGMENTID$14);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SegmentId" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SEGMENTID$14);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SegmentId" attribute
+         */
+        public boolean isSetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(SEGMENTID$14) != null;
+            }
+        }
+        
+        /**
+         * Sets the "SegmentId" attribute
+         */
+        public void setSegmentId(java.lang.String segmentId)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEGMENTID$14);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SEGMENTID$14);
+                }
+                target.setStringValue(segmentId);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SegmentId" attribute
+         */
+        public void xsetSegmentId(org.apache.xmlbeans.XmlString segmentId)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SEGMENTID$14);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(SEGMENTID$14);
+                }
+                target.set(segmentId);
+            }
+        }
+        
+        /**
+         * Unsets the "SegmentId" attribute
+         */
+        public void unsetSegmentId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(SEGMENTID$14);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: HoldReasonCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.HoldReasonCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one HoldReasonCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class HoldReasonCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.HoldReasonCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HoldReasonCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HOLDREASONCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "HoldReasonCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -78320496:
+                if (name.equals(HOLDREASONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "HoldReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1489.Enum getHoldReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOLDREASONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList1489.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "HoldReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1489 xgetHoldReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1489 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1489)get_store().find_element_user(HOLDREASONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "HoldReasonCode" element
+     */
+    public void setHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489.Enum holdReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOLDREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOLDREASONCODE$0);
+            }
+            target.setEnumValue(holdReasonCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "HoldReasonCode" element
+     */
+    public void xsetHoldReasonCode(org.tranxml.tranXML.version40.CodeList1489 holdReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1489 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1489)get_store().find_element_user(HOLDREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList1489)get_store().add_element_user(HOLDREASONCODE$0);
+            }
+            target.set(holdReasonCode);
+        }
+    }
+}
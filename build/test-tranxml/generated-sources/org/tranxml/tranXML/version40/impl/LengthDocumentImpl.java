@@ -0,0 +1,196 @@
+/*
+ * An XML document type.
+ * Localname: Length
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.LengthDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one Length(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class LengthDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.LengthDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LengthDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LENGTH$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Length");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2022496506:
+                if (name.equals(LENGTH$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Length" element
+     */
+    public org.tranxml.tranXML.version40.LengthDocument.Length getLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.LengthDocument.Length target = null;
+            target = (org.tranxml.tranXML.version40.LengthDocument.Length)get_store().find_element_user(LENGTH$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Length" element
+     */
+    public void setLength(org.tranxml.tranXML.version40.LengthDocument.Length length)
+    {
+        generatedSetterHelperImpl(length, LENGTH$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Length" element
+     */
+    public org.tranxml.tranXML.version40.LengthDocument.Length addNewLength()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.LengthDocument.Length target = null;
+            target = (org.tranxml.tranXML.version40.LengthDocument.Length)get_store().add_element_user(LENGTH$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Length(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.LengthDocument$Length.
+     */
+    public static class LengthImpl extends org.apache.xmlbeans.impl.values.JavaFloatHolderEx implements org.tranxml.tranXML.version40.LengthDocument.Length
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LengthImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected LengthImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName UNITORBASISFORMEASUREMENTCODE$0 = 
+            new javax.xml.namespace.QName("", "UnitOrBasisForMeasurementCode");
+        
+        
+        /**
+         * Gets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList355.Enum getUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList355.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList355 xgetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList355 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList355)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "UnitOrBasisForMeasurementCode" attribute
+         */
+        public boolean isSetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void setUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355.Enum unitOrBasisForMeasurementCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                }
+                target.setEnumValue(unitOrBasisForMeasurementCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void xsetUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355 unitOrBasisForMeasurementCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList355 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList355)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList355)get_store().add_attribute_user(UNITORBASISFORMEASUREMENTCODE$0);
+                }
+                target.set(unitOrBasisForMeasurementCode);
+            }
+        }
+        
+        /**
+         * Unsets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void unsetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(UNITORBASISFORMEASUREMENTCODE$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: LoadEmptyCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.LoadEmptyCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one LoadEmptyCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class LoadEmptyCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.LoadEmptyCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LoadEmptyCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOADEMPTYCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "LoadEmptyCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 520873588:
+                if (name.equals(LOADEMPTYCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LoadEmptyCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList322.Enum getLoadEmptyCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADEMPTYCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList322.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LoadEmptyCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList322 xgetLoadEmptyCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList322 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList322)get_store().find_element_user(LOADEMPTYCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LoadEmptyCode" element
+     */
+    public void setLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322.Enum loadEmptyCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADEMPTYCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOADEMPTYCODE$0);
+            }
+            target.setEnumValue(loadEmptyCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LoadEmptyCode" element
+     */
+    public void xsetLoadEmptyCode(org.tranxml.tranXML.version40.CodeList322 loadEmptyCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList322 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList322)get_store().find_element_user(LOADEMPTYCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList322)get_store().add_element_user(LOADEMPTYCODE$0);
+            }
+            target.set(loadEmptyCode);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * An XML document type.
+ * Localname: LocationIdentifier
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.LocationIdentifierDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one LocationIdentifier(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class LocationIdentifierDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.LocationIdentifierDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocationIdentifierDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCATIONIDENTIFIER$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "LocationIdentifier");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 795182686:
+                if (name.equals(LOCATIONIDENTIFIER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocationIdentifier" element
+     */
+    public org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier getLocationIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier target = null;
+            target = (org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier)get_store().find_element_user(LOCATIONIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocationIdentifier" element
+     */
+    public void setLocationIdentifier(org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier locationIdentifier)
+    {
+        generatedSetterHelperImpl(locationIdentifier, LOCATIONIDENTIFIER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "LocationIdentifier" element
+     */
+    public org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier addNewLocationIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier target = null;
+            target = (org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier)get_store().add_element_user(LOCATIONIDENTIFIER$0);
+            return target;
+        }
+    }
+    /**
+     * An XML LocationIdentifier(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.LocationIdentifierDocument$LocationIdentifier.
+     */
+    public static class LocationIdentifierImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.tranxml.tranXML.version40.LocationIdentifierDocument.LocationIdentifier
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LocationIdentifierImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected LocationIdentifierImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName QUALIFIER$0 = 
+            new javax.xml.namespace.QName("", "Qualifier");
+        
+        
+        /**
+         * Gets the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList309.Enum getQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList309.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList309 xgetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList309 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList309)get_store().find_attribute_user(QUALIFIER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Qualifier" attribute
+         */
+        public boolean isSetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(QUALIFIER$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Qualifier" attribute
+         */
+        public void setQualifier(org.tranxml.tranXML.version40.CodeList309.Enum qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUALIFIER$0);
+                }
+                target.setEnumValue(qualifier);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Qualifier" attribute
+         */
+        public void xsetQualifier(org.tranxml.tranXML.version40.CodeList309 qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList309 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList309)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList309)get_store().add_attribute_user(QUALIFIER$0);
+                }
+                target.set(qualifier);
+            }
+        }
+        
+        /**
+         * Unsets the "Qualifier" attribute
+         */
+        public void unsetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(QUALIFIER$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: NumberCheckDigit
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.NumberCheckDigitDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one NumberCheckDigit(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class NumberCheckDigitDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.NumberCheckDigitDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NumberCheckDigitDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NUMBERCHECKDIGIT$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "NumberCheckDigit");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -223756978:
+                if (name.equals(NUMBERCHECKDIGIT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NumberCheckDigit" element
+     */
+    public java.math.BigInteger getNumberCheckDigit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERCHECKDIGIT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "NumberCheckDigit" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetNumberCheckDigit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(NUMBERCHECKDIGIT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NumberCheckDigit" element
+     */
+    public void setNumberCheckDigit(java.math.BigInteger numberCheckDigit)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERCHECKDIGIT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NUMBERCHECKDIGIT$0);
+            }
+            target.setBigIntegerValue(numberCheckDigit);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "NumberCheckDigit" element
+     */
+    public void xsetNumberCheckDigit(org.apache.xmlbeans.XmlInteger numberCheckDigit)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(NUMBERCHECKDIGIT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(NUMBERCHECKDIGIT$0);
+            }
+            target.set(numberCheckDigit);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ShipmentAppointmentStatusCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ShipmentAppointmentStatusCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one ShipmentAppointmentStatusCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class ShipmentAppointmentStatusCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ShipmentAppointmentStatusCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShipmentAppointmentStatusCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIPMENTAPPOINTMENTSTATUSCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentAppointmentStatusCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 538663012:
+                if (name.equals(SHIPMENTAPPOINTMENTSTATUSCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ShipmentAppointmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1652.Enum getShipmentAppointmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList1652.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ShipmentAppointmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1652 xgetShipmentAppointmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1652 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1652)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ShipmentAppointmentStatusCode" element
+     */
+    public void setShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652.Enum shipmentAppointmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0);
+            }
+            target.setEnumValue(shipmentAppointmentStatusCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ShipmentAppointmentStatusCode" element
+     */
+    public void xsetShipmentAppointmentStatusCode(org.tranxml.tranXML.version40.CodeList1652 shipmentAppointmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1652 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1652)get_store().find_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList1652)get_store().add_element_user(SHIPMENTAPPOINTMENTSTATUSCODE$0);
+            }
+            target.set(shipmentAppointmentStatusCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ShipmentStatusCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ShipmentStatusCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one ShipmentStatusCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class ShipmentStatusCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ShipmentStatusCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShipmentStatusCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIPMENTSTATUSCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentStatusCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -439748007:
+                if (name.equals(SHIPMENTSTATUSCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ShipmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1650.Enum getShipmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList1650.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ShipmentStatusCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1650 xgetShipmentStatusCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1650 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1650)get_store().find_element_user(SHIPMENTSTATUSCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ShipmentStatusCode" element
+     */
+    public void setShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650.Enum shipmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTSTATUSCODE$0);
+            }
+            target.setEnumValue(shipmentStatusCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ShipmentStatusCode" element
+     */
+    public void xsetShipmentStatusCode(org.tranxml.tranXML.version40.CodeList1650 shipmentStatusCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1650 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1650)get_store().find_element_user(SHIPMENTSTATUSCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList1650)get_store().add_element_user(SHIPMENTSTATUSCODE$0);
+            }
+            target.set(shipmentStatusCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: ShipmentStatusOrAppointmentOrReasonCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.ShipmentStatusOrAppointmentOrReasonCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one ShipmentStatusOrAppointmentOrReasonCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class ShipmentStatusOrAppointmentOrReasonCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.ShipmentStatusOrAppointmentOrReasonCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShipmentStatusOrAppointmentOrReasonCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "ShipmentStatusOrAppointmentOrReasonCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 659758980:
+                if (name.equals(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ShipmentStatusOrAppointmentOrReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1651.Enum getShipmentStatusOrAppointmentOrReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList1651.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList1651 xgetShipmentStatusOrAppointmentOrReasonCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1651 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1651)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ShipmentStatusOrAppointmentOrReasonCode" element
+     */
+    public void setShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651.Enum shipmentStatusOrAppointmentOrReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0);
+            }
+            target.setEnumValue(shipmentStatusOrAppointmentOrReasonCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ShipmentStatusOrAppointmentOrReasonCode" element
+     */
+    public void xsetShipmentStatusOrAppointmentOrReasonCode(org.tranxml.tranXML.version40.CodeList1651 shipmentStatusOrAppointmentOrReasonCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList1651 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList1651)get_store().find_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList1651)get_store().add_element_user(SHIPMENTSTATUSORAPPOINTMENTORREASONCODE$0);
+            }
+            target.set(shipmentStatusOrAppointmentOrReasonCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: StandardCarrierAlphaCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.StandardCarrierAlphaCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one StandardCarrierAlphaCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class StandardCarrierAlphaCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.StandardCarrierAlphaCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StandardCarrierAlphaCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STANDARDCARRIERALPHACODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "StandardCarrierAlphaCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 213449040:
+                if (name.equals(STANDARDCARRIERALPHACODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "StandardCarrierAlphaCode" element
+     */
+    public java.lang.String getStandardCarrierAlphaCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "StandardCarrierAlphaCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStandardCarrierAlphaCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "StandardCarrierAlphaCode" element
+     */
+    public void setStandardCarrierAlphaCode(java.lang.String standardCarrierAlphaCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STANDARDCARRIERALPHACODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STANDARDCARRIERALPHACODE$0);
+            }
+            target.setStringValue(standardCarrierAlphaCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "StandardCarrierAlphaCode" element
+     */
+    public void xsetStandardCarrierAlphaCode(org.apache.xmlbeans.XmlString standardCarrierAlphaCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STANDARDCARRIERALPHACODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STANDARDCARRIERALPHACODE$0);
+            }
+            target.set(standardCarrierAlphaCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: StateOrProvinceCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.StateOrProvinceCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one StateOrProvinceCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class StateOrProvinceCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.StateOrProvinceCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StateOrProvinceCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STATEORPROVINCECODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "StateOrProvinceCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -506502767:
+                if (name.equals(STATEORPROVINCECODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "StateOrProvinceCode" element
+     */
+    public java.lang.String getStateOrProvinceCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATEORPROVINCECODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "StateOrProvinceCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStateOrProvinceCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATEORPROVINCECODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "StateOrProvinceCode" element
+     */
+    public void setStateOrProvinceCode(java.lang.String stateOrProvinceCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATEORPROVINCECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATEORPROVINCECODE$0);
+            }
+            target.setStringValue(stateOrProvinceCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "StateOrProvinceCode" element
+     */
+    public void xsetStateOrProvinceCode(org.apache.xmlbeans.XmlString stateOrProvinceCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATEORPROVINCECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATEORPROVINCECODE$0);
+            }
+            target.set(stateOrProvinceCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: SwitchTypeCode
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.SwitchTypeCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one SwitchTypeCode(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class SwitchTypeCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.SwitchTypeCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SwitchTypeCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SWITCHTYPECODE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "SwitchTypeCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1225062331:
+                if (name.equals(SWITCHTYPECODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SwitchTypeCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList617.Enum getSwitchTypeCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SWITCHTYPECODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.tranxml.tranXML.version40.CodeList617.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SwitchTypeCode" element
+     */
+    public org.tranxml.tranXML.version40.CodeList617 xgetSwitchTypeCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList617 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList617)get_store().find_element_user(SWITCHTYPECODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SwitchTypeCode" element
+     */
+    public void setSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617.Enum switchTypeCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SWITCHTYPECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SWITCHTYPECODE$0);
+            }
+            target.setEnumValue(switchTypeCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SwitchTypeCode" element
+     */
+    public void xsetSwitchTypeCode(org.tranxml.tranXML.version40.CodeList617 switchTypeCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.CodeList617 target = null;
+            target = (org.tranxml.tranXML.version40.CodeList617)get_store().find_element_user(SWITCHTYPECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.tranxml.tranXML.version40.CodeList617)get_store().add_element_user(SWITCHTYPECODE$0);
+            }
+            target.set(switchTypeCode);
+        }
+    }
+}
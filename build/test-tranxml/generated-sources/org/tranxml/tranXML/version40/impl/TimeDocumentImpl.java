@@ -0,0 +1,290 @@
+/*
+ * An XML document type.
+ * Localname: Time
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.TimeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one Time(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class TimeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.TimeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TimeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TIME$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Time");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2606829:
+                if (name.equals(TIME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Time" element
+     */
+    public org.tranxml.tranXML.version40.TimeDocument.Time getTime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+            target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().find_element_user(TIME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Time" element
+     */
+    public void setTime(org.tranxml.tranXML.version40.TimeDocument.Time time)
+    {
+        generatedSetterHelperImpl(time, TIME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Time" element
+     */
+    public org.tranxml.tranXML.version40.TimeDocument.Time addNewTime()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.TimeDocument.Time target = null;
+            target = (org.tranxml.tranXML.version40.TimeDocument.Time)get_store().add_element_user(TIME$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Time(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.TimeDocument$Time.
+     */
+    public static class TimeImpl extends org.apache.xmlbeans.impl.values.JavaGDateHolderEx implements org.tranxml.tranXML.version40.TimeDocument.Time
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TimeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected TimeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName TIMEZONE$0 = 
+            new javax.xml.namespace.QName("", "TimeZone");
+        private static final javax.xml.namespace.QName QUALIFIER$2 = 
+            new javax.xml.namespace.QName("", "Qualifier");
+        
+        
+        /**
+         * Gets the "TimeZone" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList623.Enum getTimeZone()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TIMEZONE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList623.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "TimeZone" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList623 xgetTimeZone()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList623 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList623)get_store().find_attribute_user(TIMEZONE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "TimeZone" attribute
+         */
+        public boolean isSetTimeZone()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TIMEZONE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "TimeZone" attribute
+         */
+        public void setTimeZone(org.tranxml.tranXML.version40.CodeList623.Enum timeZone)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TIMEZONE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TIMEZONE$0);
+                }
+                target.setEnumValue(timeZone);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "TimeZone" attribute
+         */
+        public void xsetTimeZone(org.tranxml.tranXML.version40.CodeList623 timeZone)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList623 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList623)get_store().find_attribute_user(TIMEZONE$0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList623)get_store().add_attribute_user(TIMEZONE$0);
+                }
+                target.set(timeZone);
+            }
+        }
+        
+        /**
+         * Unsets the "TimeZone" attribute
+         */
+        public void unsetTimeZone()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TIMEZONE$0);
+            }
+        }
+        
+        /**
+         * Gets the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList176.Enum getQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList176.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList176 xgetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList176 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList176)get_store().find_attribute_user(QUALIFIER$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Qualifier" attribute
+         */
+        public boolean isSetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(QUALIFIER$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Qualifier" attribute
+         */
+        public void setQualifier(org.tranxml.tranXML.version40.CodeList176.Enum qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUALIFIER$2);
+                }
+                target.setEnumValue(qualifier);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Qualifier" attribute
+         */
+        public void xsetQualifier(org.tranxml.tranXML.version40.CodeList176 qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList176 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList176)get_store().find_attribute_user(QUALIFIER$2);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList176)get_store().add_attribute_user(QUALIFIER$2);
+                }
+                target.set(qualifier);
+            }
+        }
+        
+        /**
+         * Unsets the "Qualifier" attribute
+         */
+        public void unsetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(QUALIFIER$2);
+            }
+        }
+    }
+}
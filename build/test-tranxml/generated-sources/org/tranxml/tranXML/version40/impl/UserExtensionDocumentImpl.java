@@ -0,0 +1,172 @@
+/*
+ * An XML document type.
+ * Localname: UserExtension
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.UserExtensionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one UserExtension(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class UserExtensionDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.UserExtensionDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UserExtensionDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName USEREXTENSION$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "UserExtension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2144562028:
+                if (name.equals(USEREXTENSION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UserExtension" element
+     */
+    public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension getUserExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension target = null;
+            target = (org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension)get_store().find_element_user(USEREXTENSION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UserExtension" element
+     */
+    public void setUserExtension(org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension userExtension)
+    {
+        generatedSetterHelperImpl(userExtension, USEREXTENSION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UserExtension" element
+     */
+    public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension addNewUserExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension target = null;
+            target = (org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension)get_store().add_element_user(USEREXTENSION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML UserExtension(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.UserExtensionDocument$UserExtension.
+     */
+    public static class UserExtensionImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public UserExtensionImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected UserExtensionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName NAME$0 = 
+            new javax.xml.namespace.QName("", "Name");
+        
+        
+        /**
+         * Gets the "Name" attribute
+         */
+        public java.lang.String getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Name" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Name" attribute
+         */
+        public void setName(java.lang.String name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                }
+                target.setStringValue(name);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Name" attribute
+         */
+        public void xsetName(org.apache.xmlbeans.XmlString name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$0);
+                }
+                target.set(name);
+            }
+        }
+    }
+}
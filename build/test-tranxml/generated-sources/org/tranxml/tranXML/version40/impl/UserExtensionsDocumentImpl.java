@@ -0,0 +1,216 @@
+/*
+ * An XML document type.
+ * Localname: UserExtensions
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.UserExtensionsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one UserExtensions(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class UserExtensionsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.UserExtensionsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UserExtensionsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName USEREXTENSIONS$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "UserExtensions");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2056913313:
+                if (name.equals(USEREXTENSIONS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "UserExtensions" element
+     */
+    public org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions getUserExtensions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions target = null;
+            target = (org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions)get_store().find_element_user(USEREXTENSIONS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "UserExtensions" element
+     */
+    public void setUserExtensions(org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions userExtensions)
+    {
+        generatedSetterHelperImpl(userExtensions, USEREXTENSIONS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "UserExtensions" element
+     */
+    public org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions addNewUserExtensions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions target = null;
+            target = (org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions)get_store().add_element_user(USEREXTENSIONS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML UserExtensions(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is a complex type.
+     */
+    public static class UserExtensionsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.UserExtensionsDocument.UserExtensions
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public UserExtensionsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName USEREXTENSION$0 = 
+            new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "UserExtension");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -2144562028:
+                    if (name.equals(USEREXTENSION$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "UserExtension" elements
+         */
+        public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension[] getUserExtensionArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(USEREXTENSION$0, targetList);
+                org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension[] result = new org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "UserExtension" element
+         */
+        public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension getUserExtensionArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension target = null;
+                target = (org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension)get_store().find_element_user(USEREXTENSION$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "UserExtension" element
+         */
+        public int sizeOfUserExtensionArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(USEREXTENSION$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "UserExtension" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setUserExtensionArray(org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension[] userExtensionArray)
+        {
+            check_orphaned();
+            arraySetterHelper(userExtensionArray, USEREXTENSION$0);
+        }
+        
+        /**
+         * Sets ith "UserExtension" element
+         */
+        public void setUserExtensionArray(int i, org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension userExtension)
+        {
+            generatedSetterHelperImpl(userExtension, USEREXTENSION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "UserExtension" element
+         */
+        public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension insertNewUserExtension(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension target = null;
+                target = (org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension)get_store().insert_element_user(USEREXTENSION$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "UserExtension" element
+         */
+        public org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension addNewUserExtension()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension target = null;
+                target = (org.tranxml.tranXML.version40.UserExtensionDocument.UserExtension)get_store().add_element_user(USEREXTENSION$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "UserExtension" element
+         */
+        public void removeUserExtension(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(USEREXTENSION$0, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: WaybillDate
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.WaybillDateDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one WaybillDate(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class WaybillDateDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.WaybillDateDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WaybillDateDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WAYBILLDATE$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "WaybillDate");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1927561252:
+                if (name.equals(WAYBILLDATE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "WaybillDate" element
+     */
+    public java.util.Calendar getWaybillDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WAYBILLDATE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "WaybillDate" element
+     */
+    public org.apache.xmlbeans.XmlDate xgetWaybillDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(WAYBILLDATE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "WaybillDate" element
+     */
+    public void setWaybillDate(java.util.Calendar waybillDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WAYBILLDATE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WAYBILLDATE$0);
+            }
+            target.setCalendarValue(waybillDate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "WaybillDate" element
+     */
+    public void xsetWaybillDate(org.apache.xmlbeans.XmlDate waybillDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(WAYBILLDATE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(WAYBILLDATE$0);
+            }
+            target.set(waybillDate);
+        }
+    }
+}
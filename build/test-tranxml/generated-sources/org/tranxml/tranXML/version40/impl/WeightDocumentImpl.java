@@ -0,0 +1,384 @@
+/*
+ * An XML document type.
+ * Localname: Weight
+ * Namespace: http://www.tranxml.org/TranXML/Version4.0
+ * Java type: org.tranxml.tranXML.version40.WeightDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.tranxml.tranXML.version40.impl;
+/**
+ * A document containing one Weight(@http://www.tranxml.org/TranXML/Version4.0) element.
+ *
+ * This is a complex type.
+ */
+public class WeightDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.tranxml.tranXML.version40.WeightDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WeightDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WEIGHT$0 = 
+        new javax.xml.namespace.QName("http://www.tranxml.org/TranXML/Version4.0", "Weight");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1707725160:
+                if (name.equals(WEIGHT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Weight" element
+     */
+    public org.tranxml.tranXML.version40.WeightDocument.Weight getWeight()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.WeightDocument.Weight target = null;
+            target = (org.tranxml.tranXML.version40.WeightDocument.Weight)get_store().find_element_user(WEIGHT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Weight" element
+     */
+    public void setWeight(org.tranxml.tranXML.version40.WeightDocument.Weight weight)
+    {
+        generatedSetterHelperImpl(weight, WEIGHT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Weight" element
+     */
+    public org.tranxml.tranXML.version40.WeightDocument.Weight addNewWeight()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.tranxml.tranXML.version40.WeightDocument.Weight target = null;
+            target = (org.tranxml.tranXML.version40.WeightDocument.Weight)get_store().add_element_user(WEIGHT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Weight(@http://www.tranxml.org/TranXML/Version4.0).
+     *
+     * This is an atomic type that is a restriction of org.tranxml.tranXML.version40.WeightDocument$Weight.
+     */
+    public static class WeightImpl extends org.apache.xmlbeans.impl.values.JavaFloatHolderEx implements org.tranxml.tranXML.version40.WeightDocument.Weight
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public WeightImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected WeightImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName QUALIFIER$0 = 
+            new javax.xml.namespace.QName("", "Qualifier");
+        private static final javax.xml.namespace.QName WEIGHTUNITCODE$2 = 
+            new javax.xml.namespace.QName("", "WeightUnitCode");
+        private static final javax.xml.namespace.QName UNITORBASISFORMEASUREMENTCODE$4 = 
+            new javax.xml.namespace.QName("", "UnitOrBasisForMeasurementCode");
+        
+        
+        /**
+         * Gets the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList187.Enum getQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList187.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Qualifier" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList187 xgetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList187 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList187)get_store().find_attribute_user(QUALIFIER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "Qualifier" attribute
+         */
+        public boolean isSetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(QUALIFIER$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "Qualifier" attribute
+         */
+        public void setQualifier(org.tranxml.tranXML.version40.CodeList187.Enum qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUALIFIER$0);
+                }
+                target.setEnumValue(qualifier);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Qualifier" attribute
+         */
+        public void xsetQualifier(org.tranxml.tranXML.version40.CodeList187 qualifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList187 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList187)get_store().find_attribute_user(QUALIFIER$0);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList187)get_store().add_attribute_user(QUALIFIER$0);
+                }
+                target.set(qualifier);
+            }
+        }
+        
+        /**
+         * Unsets the "Qualifier" attribute
+         */
+        public void unsetQualifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(QUALIFIER$0);
+            }
+        }
+        
+        /**
+         * Gets the "WeightUnitCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList188.Enum getWeightUnitCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(WEIGHTUNITCODE$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList188.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "WeightUnitCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList188 xgetWeightUnitCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList188 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList188)get_store().find_attribute_user(WEIGHTUNITCODE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "WeightUnitCode" attribute
+         */
+        public boolean isSetWeightUnitCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(WEIGHTUNITCODE$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "WeightUnitCode" attribute
+         */
+        public void setWeightUnitCode(org.tranxml.tranXML.version40.CodeList188.Enum weightUnitCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(WEIGHTUNITCODE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(WEIGHTUNITCODE$2);
+                }
+                target.setEnumValue(weightUnitCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "WeightUnitCode" attribute
+         */
+        public void xsetWeightUnitCode(org.tranxml.tranXML.version40.CodeList188 weightUnitCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList188 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList188)get_store().find_attribute_user(WEIGHTUNITCODE$2);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList188)get_store().add_attribute_user(WEIGHTUNITCODE$2);
+                }
+                target.set(weightUnitCode);
+            }
+        }
+        
+        /**
+         * Unsets the "WeightUnitCode" attribute
+         */
+        public void unsetWeightUnitCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(WEIGHTUNITCODE$2);
+            }
+        }
+        
+        /**
+         * Gets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList355.Enum getUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.tranxml.tranXML.version40.CodeList355.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public org.tranxml.tranXML.version40.CodeList355 xgetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList355 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList355)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "UnitOrBasisForMeasurementCode" attribute
+         */
+        public boolean isSetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void setUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355.Enum unitOrBasisForMeasurementCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                }
+                target.setEnumValue(unitOrBasisForMeasurementCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void xsetUnitOrBasisForMeasurementCode(org.tranxml.tranXML.version40.CodeList355 unitOrBasisForMeasurementCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.tranxml.tranXML.version40.CodeList355 target = null;
+                target = (org.tranxml.tranXML.version40.CodeList355)get_store().find_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                if (target == null)
+                {
+                    target = (org.tranxml.tranXML.version40.CodeList355)get_store().add_attribute_user(UNITORBASISFORMEASUREMENTCODE$4);
+                }
+                target.set(unitOrBasisForMeasurementCode);
+            }
+        }
+        
+        /**
+         * Unsets the "UnitOrBasisForMeasurementCode" attribute
+         */
+        public void unsetUnitOrBasisForMeasurementCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(UNITORBASISFORMEASUREMENTCODE$4);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: comment
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.CommentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder;
+
+
+/**
+ * A document containing one comment(@http://xbean.usertype/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public interface CommentDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CommentDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sUSERTYPE").resolveHandle("commentf21fdoctype");
+    
+    /**
+     * Gets the "comment" element
+     */
+    java.lang.String getComment();
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    org.apache.xmlbeans.XmlString xgetComment();
+    
+    /**
+     * Sets the "comment" element
+     */
+    void setComment(java.lang.String comment);
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    void xsetComment(org.apache.xmlbeans.XmlString comment);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument newInstance() {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.CommentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.CommentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * An XML document type.
+ * Localname: purchaseOrder
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder;
+
+
+/**
+ * A document containing one purchaseOrder(@http://xbean.usertype/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public interface PurchaseOrderDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PurchaseOrderDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sUSERTYPE").resolveHandle("purchaseorder514ddoctype");
+    
+    /**
+     * Gets the "purchaseOrder" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType getPurchaseOrder();
+    
+    /**
+     * Sets the "purchaseOrder" element
+     */
+    void setPurchaseOrder(usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType purchaseOrder);
+    
+    /**
+     * Appends and returns a new empty "purchaseOrder" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType addNewPurchaseOrder();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument newInstance() {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * XML Type:  PurchaseOrderType
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder;
+
+
+/**
+ * An XML PurchaseOrderType(@http://xbean.usertype/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public interface PurchaseOrderType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PurchaseOrderType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sUSERTYPE").resolveHandle("purchaseordertype9a97type");
+    
+    /**
+     * Gets the "shipTo" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.USAddress getShipTo();
+    
+    /**
+     * Sets the "shipTo" element
+     */
+    void setShipTo(usertype.xbean.averageCase.purchaseOrder.USAddress shipTo);
+    
+    /**
+     * Appends and returns a new empty "shipTo" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.USAddress addNewShipTo();
+    
+    /**
+     * Gets the "billTo" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.USAddress getBillTo();
+    
+    /**
+     * Sets the "billTo" element
+     */
+    void setBillTo(usertype.xbean.averageCase.purchaseOrder.USAddress billTo);
+    
+    /**
+     * Appends and returns a new empty "billTo" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.USAddress addNewBillTo();
+    
+    /**
+     * Gets the "comment" element
+     */
+    java.lang.String getComment();
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    org.apache.xmlbeans.XmlString xgetComment();
+    
+    /**
+     * True if has "comment" element
+     */
+    boolean isSetComment();
+    
+    /**
+     * Sets the "comment" element
+     */
+    void setComment(java.lang.String comment);
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    void xsetComment(org.apache.xmlbeans.XmlString comment);
+    
+    /**
+     * Unsets the "comment" element
+     */
+    void unsetComment();
+    
+    /**
+     * Gets the "items" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.Items getItems();
+    
+    /**
+     * Sets the "items" element
+     */
+    void setItems(usertype.xbean.averageCase.purchaseOrder.Items items);
+    
+    /**
+     * Appends and returns a new empty "items" element
+     */
+    usertype.xbean.averageCase.purchaseOrder.Items addNewItems();
+    
+    /**
+     * Gets the "orderDate" attribute
+     */
+    java.util.Calendar getOrderDate();
+    
+    /**
+     * Gets (as xml) the "orderDate" attribute
+     */
+    org.apache.xmlbeans.XmlDate xgetOrderDate();
+    
+    /**
+     * True if has "orderDate" attribute
+     */
+    boolean isSetOrderDate();
+    
+    /**
+     * Sets the "orderDate" attribute
+     */
+    void setOrderDate(java.util.Calendar orderDate);
+    
+    /**
+     * Sets (as xml) the "orderDate" attribute
+     */
+    void xsetOrderDate(org.apache.xmlbeans.XmlDate orderDate);
+    
+    /**
+     * Unsets the "orderDate" attribute
+     */
+    void unsetOrderDate();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType newInstance() {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: comment
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.CommentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder.impl;
+/**
+ * A document containing one comment(@http://xbean.usertype/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public class CommentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.averageCase.purchaseOrder.CommentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CommentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "comment");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 950398559:
+                if (name.equals(COMMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "comment" element
+     */
+    public java.lang.String getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "comment" element
+     */
+    public void setComment(java.lang.String comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$0);
+            }
+            target.setStringValue(comment);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    public void xsetComment(org.apache.xmlbeans.XmlString comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$0);
+            }
+            target.set(comment);
+        }
+    }
+}
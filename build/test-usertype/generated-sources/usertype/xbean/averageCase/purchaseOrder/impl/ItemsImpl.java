@@ -0,0 +1,688 @@
+/*
+ * XML Type:  Items
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.Items
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder.impl;
+/**
+ * An XML Items(@http://xbean.usertype/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class ItemsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.averageCase.purchaseOrder.Items
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemsImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ITEM$0 = 
+        new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "item");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3242771:
+                if (name.equals(ITEM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "item" elements
+     */
+    public usertype.xbean.averageCase.purchaseOrder.Items.Item[] getItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ITEM$0, targetList);
+            usertype.xbean.averageCase.purchaseOrder.Items.Item[] result = new usertype.xbean.averageCase.purchaseOrder.Items.Item[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "item" element
+     */
+    public usertype.xbean.averageCase.purchaseOrder.Items.Item getItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.averageCase.purchaseOrder.Items.Item target = null;
+            target = (usertype.xbean.averageCase.purchaseOrder.Items.Item)get_store().find_element_user(ITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "item" element
+     */
+    public int sizeOfItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ITEM$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "item" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setItemArray(usertype.xbean.averageCase.purchaseOrder.Items.Item[] itemArray)
+    {
+        check_orphaned();
+        arraySetterHelper(itemArray, ITEM$0);
+    }
+    
+    /**
+     * Sets ith "item" element
+     */
+    public void setItemArray(int i, usertype.xbean.averageCase.purchaseOrder.Items.Item item)
+    {
+        generatedSetterHelperImpl(item, ITEM$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "item" element
+     */
+    public usertype.xbean.averageCase.purchaseOrder.Items.Item insertNewItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.averageCase.purchaseOrder.Items.Item target = null;
+            target = (usertype.xbean.averageCase.purchaseOrder.Items.Item)get_store().insert_element_user(ITEM$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "item" element
+     */
+    public usertype.xbean.averageCase.purchaseOrder.Items.Item addNewItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.averageCase.purchaseOrder.Items.Item target = null;
+            target = (usertype.xbean.averageCase.purchaseOrder.Items.Item)get_store().add_element_user(ITEM$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "item" element
+     */
+    public void removeItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ITEM$0, i);
+        }
+    }
+    /**
+     * An XML item(@http://xbean.usertype/averageCase/PurchaseOrder).
+     *
+     * This is a complex type.
+     */
+    public static class ItemImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.averageCase.purchaseOrder.Items.Item
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ItemImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName PRODUCTNAME$0 = 
+            new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "productName");
+        private static final javax.xml.namespace.QName QUANTITY$2 = 
+            new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "quantity");
+        private static final javax.xml.namespace.QName USPRICE$4 = 
+            new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "USPrice");
+        private static final javax.xml.namespace.QName COMMENT$6 = 
+            new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "comment");
+        private static final javax.xml.namespace.QName SHIPDATE$8 = 
+            new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "shipDate");
+        private static final javax.xml.namespace.QName PARTNUM$10 = 
+            new javax.xml.namespace.QName("", "partNum");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(5);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1491817446:
+                    if (name.equals(PRODUCTNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -1285004149:
+                    if (name.equals(QUANTITY$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case -517554166:
+                    if (name.equals(SHIPDATE$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 582003019:
+                    if (name.equals(USPRICE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 950398559:
+                    if (name.equals(COMMENT$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "productName" element
+         */
+        public java.lang.String getProductName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "productName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetProductName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "productName" element
+         */
+        public void setProductName(java.lang.String productName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRODUCTNAME$0);
+                }
+                target.setStringValue(productName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "productName" element
+         */
+        public void xsetProductName(org.apache.xmlbeans.XmlString productName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(PRODUCTNAME$0);
+                }
+                target.set(productName);
+            }
+        }
+        
+        /**
+         * Gets the "quantity" element
+         */
+        public int getQuantity()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(QUANTITY$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$2, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "quantity" element
+         */
+        public usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity xgetQuantity()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity target = null;
+                target = (usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity)get_store().find_element_user(QUANTITY$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "quantity" element
+         */
+        public void setQuantity(int quantity)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QUANTITY$2);
+                }
+                target.setIntValue(quantity);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "quantity" element
+         */
+        public void xsetQuantity(usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity quantity)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity target = null;
+                target = (usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity)get_store().find_element_user(QUANTITY$2, 0);
+                if (target == null)
+                {
+                    target = (usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity)get_store().add_element_user(QUANTITY$2);
+                }
+                target.set(quantity);
+            }
+        }
+        
+        /**
+         * Gets the "USPrice" element
+         */
+        public java.math.BigDecimal getUSPrice()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPRICE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigDecimalValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "USPrice" element
+         */
+        public org.apache.xmlbeans.XmlDecimal xgetUSPrice()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(USPRICE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "USPrice" element
+         */
+        public void setUSPrice(java.math.BigDecimal usPrice)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPRICE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(USPRICE$4);
+                }
+                target.setBigDecimalValue(usPrice);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "USPrice" element
+         */
+        public void xsetUSPrice(org.apache.xmlbeans.XmlDecimal usPrice)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(USPRICE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(USPRICE$4);
+                }
+                target.set(usPrice);
+            }
+        }
+        
+        /**
+         * Gets the "comment" element
+         */
+        public java.lang.String getComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "comment" element
+         */
+        public org.apache.xmlbeans.XmlString xgetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "comment" element
+         */
+        public boolean isSetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COMMENT$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "comment" element
+         */
+        public void setComment(java.lang.String comment)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$6);
+                }
+                target.setStringValue(comment);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "comment" element
+         */
+        public void xsetComment(org.apache.xmlbeans.XmlString comment)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$6);
+                }
+                target.set(comment);
+            }
+        }
+        
+        /**
+         * Unsets the "comment" element
+         */
+        public void unsetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(COMMENT$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "shipDate" element
+         */
+        public java.util.Calendar getShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "shipDate" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "shipDate" element
+         */
+        public boolean isSetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPDATE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "shipDate" element
+         */
+        public void setShipDate(java.util.Calendar shipDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPDATE$8);
+                }
+                target.setCalendarValue(shipDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "shipDate" element
+         */
+        public void xsetShipDate(org.apache.xmlbeans.XmlDate shipDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(SHIPDATE$8);
+                }
+                target.set(shipDate);
+            }
+        }
+        
+        /**
+         * Unsets the "shipDate" element
+         */
+        public void unsetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHIPDATE$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "partNum" attribute
+         */
+        public xmlobject.usertype.averageCase.existing.SKU getPartNum()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PARTNUM$10);
+                if (target == null)
+                {
+                    return null;
+                }
+                return xmlobject.usertype.averageCase.existing.SKUHandler.decodeSKU(target);
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "partNum" attribute
+         */
+        public usertype.xbean.averageCase.purchaseOrder.SKU xgetPartNum()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                usertype.xbean.averageCase.purchaseOrder.SKU target = null;
+                target = (usertype.xbean.averageCase.purchaseOrder.SKU)get_store().find_attribute_user(PARTNUM$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "partNum" attribute
+         */
+        public void setPartNum(xmlobject.usertype.averageCase.existing.SKU partNum)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PARTNUM$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PARTNUM$10);
+                }
+                xmlobject.usertype.averageCase.existing.SKUHandler.encodeSKU(partNum, target);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "partNum" attribute
+         */
+        public void xsetPartNum(usertype.xbean.averageCase.purchaseOrder.SKU partNum)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                usertype.xbean.averageCase.purchaseOrder.SKU target = null;
+                target = (usertype.xbean.averageCase.purchaseOrder.SKU)get_store().find_attribute_user(PARTNUM$10);
+                if (target == null)
+                {
+                    target = (usertype.xbean.averageCase.purchaseOrder.SKU)get_store().add_attribute_user(PARTNUM$10);
+                }
+                target.set(partNum);
+            }
+        }
+        /**
+         * An XML quantity(@http://xbean.usertype/averageCase/PurchaseOrder).
+         *
+         * This is an atomic type that is a restriction of usertype.xbean.averageCase.purchaseOrder.Items$Item$Quantity.
+         */
+        public static class QuantityImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements usertype.xbean.averageCase.purchaseOrder.Items.Item.Quantity
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public QuantityImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected QuantityImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
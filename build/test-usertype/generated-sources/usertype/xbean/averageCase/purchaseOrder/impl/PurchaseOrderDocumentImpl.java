@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: purchaseOrder
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder.impl;
+/**
+ * A document containing one purchaseOrder(@http://xbean.usertype/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.averageCase.purchaseOrder.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("http://xbean.usertype/averageCase/PurchaseOrder", "purchaseOrder");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1338668339:
+                if (name.equals(PURCHASEORDER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "purchaseOrder" element
+     */
+    public usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType getPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType target = null;
+            target = (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType)get_store().find_element_user(PURCHASEORDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "purchaseOrder" element
+     */
+    public void setPurchaseOrder(usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType purchaseOrder)
+    {
+        generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchaseOrder" element
+     */
+    public usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType addNewPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType target = null;
+            target = (usertype.xbean.averageCase.purchaseOrder.PurchaseOrderType)get_store().add_element_user(PURCHASEORDER$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  SKU
+ * Namespace: http://xbean.usertype/averageCase/PurchaseOrder
+ * Java type: usertype.xbean.averageCase.purchaseOrder.SKU
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.averageCase.purchaseOrder.impl;
+/**
+ * An XML SKU(@http://xbean.usertype/averageCase/PurchaseOrder).
+ *
+ * This is an atomic type that is a restriction of usertype.xbean.averageCase.purchaseOrder.SKU.
+ */
+public class SKUImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements usertype.xbean.averageCase.purchaseOrder.SKU
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SKUImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SKUImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
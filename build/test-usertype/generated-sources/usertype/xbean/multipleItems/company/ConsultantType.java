@@ -0,0 +1,226 @@
+/*
+ * XML Type:  ConsultantType
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.ConsultantType
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company;
+
+
+/**
+ * An XML ConsultantType(@http://xbean.usertype/multipleItems/company).
+ *
+ * This is a complex type.
+ */
+public interface ConsultantType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ConsultantType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sUSERTYPE").resolveHandle("consultanttype6d6atype");
+    
+    /**
+     * Gets array of all "room" elements
+     */
+    xmlobject.usertype.multipleItems.existing.Room[] getRoomArray();
+    
+    /**
+     * Gets ith "room" element
+     */
+    xmlobject.usertype.multipleItems.existing.Room getRoomArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "room" elements
+     */
+    usertype.xbean.multipleItems.company.Room[] xgetRoomArray();
+    
+    /**
+     * Gets (as xml) ith "room" element
+     */
+    usertype.xbean.multipleItems.company.Room xgetRoomArray(int i);
+    
+    /**
+     * Returns number of "room" element
+     */
+    int sizeOfRoomArray();
+    
+    /**
+     * Sets array of all "room" element
+     */
+    void setRoomArray(xmlobject.usertype.multipleItems.existing.Room[] roomArray);
+    
+    /**
+     * Sets ith "room" element
+     */
+    void setRoomArray(int i, xmlobject.usertype.multipleItems.existing.Room room);
+    
+    /**
+     * Sets (as xml) array of all "room" element
+     */
+    void xsetRoomArray(usertype.xbean.multipleItems.company.Room[] roomArray);
+    
+    /**
+     * Sets (as xml) ith "room" element
+     */
+    void xsetRoomArray(int i, usertype.xbean.multipleItems.company.Room room);
+    
+    /**
+     * Inserts the value as the ith "room" element
+     */
+    void insertRoom(int i, xmlobject.usertype.multipleItems.existing.Room room);
+    
+    /**
+     * Appends the value as the last "room" element
+     */
+    void addRoom(xmlobject.usertype.multipleItems.existing.Room room);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "room" element
+     */
+    usertype.xbean.multipleItems.company.Room insertNewRoom(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "room" element
+     */
+    usertype.xbean.multipleItems.company.Room addNewRoom();
+    
+    /**
+     * Removes the ith "room" element
+     */
+    void removeRoom(int i);
+    
+    /**
+     * Gets the "name" attribute
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * True if has "name" attribute
+     */
+    boolean isSetName();
+    
+    /**
+     * Sets the "name" attribute
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    void unsetName();
+    
+    /**
+     * Gets the "age" attribute
+     */
+    java.math.BigInteger getAge();
+    
+    /**
+     * Gets (as xml) the "age" attribute
+     */
+    org.apache.xmlbeans.XmlInteger xgetAge();
+    
+    /**
+     * True if has "age" attribute
+     */
+    boolean isSetAge();
+    
+    /**
+     * Sets the "age" attribute
+     */
+    void setAge(java.math.BigInteger age);
+    
+    /**
+     * Sets (as xml) the "age" attribute
+     */
+    void xsetAge(org.apache.xmlbeans.XmlInteger age);
+    
+    /**
+     * Unsets the "age" attribute
+     */
+    void unsetAge();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static usertype.xbean.multipleItems.company.ConsultantType newInstance() {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static usertype.xbean.multipleItems.company.ConsultantType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (usertype.xbean.multipleItems.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: company
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.CompanyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * A document containing one company(@http://xbean.usertype/multipleItems/company) element.
+ *
+ * This is a complex type.
+ */
+public class CompanyDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.multipleItems.company.CompanyDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CompanyDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMPANY$0 = 
+        new javax.xml.namespace.QName("http://xbean.usertype/multipleItems/company", "company");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 950484093:
+                if (name.equals(COMPANY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "company" element
+     */
+    public usertype.xbean.multipleItems.company.CompanyType getCompany()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.CompanyType target = null;
+            target = (usertype.xbean.multipleItems.company.CompanyType)get_store().find_element_user(COMPANY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "company" element
+     */
+    public void setCompany(usertype.xbean.multipleItems.company.CompanyType company)
+    {
+        generatedSetterHelperImpl(company, COMPANY$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "company" element
+     */
+    public usertype.xbean.multipleItems.company.CompanyType addNewCompany()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.CompanyType target = null;
+            target = (usertype.xbean.multipleItems.company.CompanyType)get_store().add_element_user(COMPANY$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  CompanyType
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.CompanyType
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * An XML CompanyType(@http://xbean.usertype/multipleItems/company).
+ *
+ * This is a complex type.
+ */
+public class CompanyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.multipleItems.company.CompanyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CompanyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENTS$0 = 
+        new javax.xml.namespace.QName("", "departments");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 523904865:
+                if (name.equals(DEPARTMENTS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "departments" elements
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType[] getDepartmentsArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPARTMENTS$0, targetList);
+            usertype.xbean.multipleItems.company.DepartmentType[] result = new usertype.xbean.multipleItems.company.DepartmentType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "departments" element
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType getDepartmentsArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.DepartmentType target = null;
+            target = (usertype.xbean.multipleItems.company.DepartmentType)get_store().find_element_user(DEPARTMENTS$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "departments" element
+     */
+    public int sizeOfDepartmentsArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPARTMENTS$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "departments" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDepartmentsArray(usertype.xbean.multipleItems.company.DepartmentType[] departmentsArray)
+    {
+        check_orphaned();
+        arraySetterHelper(departmentsArray, DEPARTMENTS$0);
+    }
+    
+    /**
+     * Sets ith "departments" element
+     */
+    public void setDepartmentsArray(int i, usertype.xbean.multipleItems.company.DepartmentType departments)
+    {
+        generatedSetterHelperImpl(departments, DEPARTMENTS$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "departments" element
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType insertNewDepartments(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.DepartmentType target = null;
+            target = (usertype.xbean.multipleItems.company.DepartmentType)get_store().insert_element_user(DEPARTMENTS$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "departments" element
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType addNewDepartments()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.DepartmentType target = null;
+            target = (usertype.xbean.multipleItems.company.DepartmentType)get_store().add_element_user(DEPARTMENTS$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "departments" element
+     */
+    public void removeDepartments(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPARTMENTS$0, i);
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * XML Type:  ConsultantType
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.ConsultantType
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * An XML ConsultantType(@http://xbean.usertype/multipleItems/company).
+ *
+ * This is a complex type.
+ */
+public class ConsultantTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.multipleItems.company.ConsultantType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConsultantTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOM$0 = 
+        new javax.xml.namespace.QName("", "room");
+    private static final javax.xml.namespace.QName NAME$2 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName AGE$4 = 
+        new javax.xml.namespace.QName("", "age");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3506395:
+                if (name.equals(ROOM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "room" elements
+     */
+    public xmlobject.usertype.multipleItems.existing.Room[] getRoomArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ROOM$0, targetList);
+            xmlobject.usertype.multipleItems.existing.Room[] result = new xmlobject.usertype.multipleItems.existing.Room[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = xmlobject.usertype.multipleItems.existing.RoomHandler.decodeRoom((org.apache.xmlbeans.SimpleValue)targetList.get(i));
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "room" element
+     */
+    public xmlobject.usertype.multipleItems.existing.Room getRoomArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ROOM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return xmlobject.usertype.multipleItems.existing.RoomHandler.decodeRoom(target);
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "room" elements
+     */
+    public usertype.xbean.multipleItems.company.Room[] xgetRoomArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ROOM$0, targetList);
+            usertype.xbean.multipleItems.company.Room[] result = new usertype.xbean.multipleItems.company.Room[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "room" element
+     */
+    public usertype.xbean.multipleItems.company.Room xgetRoomArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.Room target = null;
+            target = (usertype.xbean.multipleItems.company.Room)get_store().find_element_user(ROOM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "room" element
+     */
+    public int sizeOfRoomArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ROOM$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "room" element
+     */
+    public void setRoomArray(xmlobject.usertype.multipleItems.existing.Room[] roomArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue[] dests = arraySetterHelper(roomArray.length, ROOM$0);
+            for ( int i = 0 ; i < dests.length ; i++ ) {
+                xmlobject.usertype.multipleItems.existing.RoomHandler.encodeRoom(roomArray[i], dests[i]);
+            }
+        }
+    }
+    
+    /**
+     * Sets ith "room" element
+     */
+    public void setRoomArray(int i, xmlobject.usertype.multipleItems.existing.Room room)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ROOM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            xmlobject.usertype.multipleItems.existing.RoomHandler.encodeRoom(room, target);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "room" element
+     */
+    public void xsetRoomArray(usertype.xbean.multipleItems.company.Room[]roomArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(roomArray, ROOM$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "room" element
+     */
+    public void xsetRoomArray(int i, usertype.xbean.multipleItems.company.Room room)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.Room target = null;
+            target = (usertype.xbean.multipleItems.company.Room)get_store().find_element_user(ROOM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(room);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "room" element
+     */
+    public void insertRoom(int i, xmlobject.usertype.multipleItems.existing.Room room)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(ROOM$0, i);
+            xmlobject.usertype.multipleItems.existing.RoomHandler.encodeRoom(room, target);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "room" element
+     */
+    public void addRoom(xmlobject.usertype.multipleItems.existing.Room room)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ROOM$0);
+            xmlobject.usertype.multipleItems.existing.RoomHandler.encodeRoom(room, target);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "room" element
+     */
+    public usertype.xbean.multipleItems.company.Room insertNewRoom(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.Room target = null;
+            target = (usertype.xbean.multipleItems.company.Room)get_store().insert_element_user(ROOM$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "room" element
+     */
+    public usertype.xbean.multipleItems.company.Room addNewRoom()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.Room target = null;
+            target = (usertype.xbean.multipleItems.company.Room)get_store().add_element_user(ROOM$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "room" element
+     */
+    public void removeRoom(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ROOM$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" attribute
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAME$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$2);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$2);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAME$2);
+        }
+    }
+    
+    /**
+     * Gets the "age" attribute
+     */
+    public java.math.BigInteger getAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(AGE$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "age" attribute
+     */
+    public org.apache.xmlbeans.XmlInteger xgetAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(AGE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "age" attribute
+     */
+    public boolean isSetAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(AGE$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "age" attribute
+     */
+    public void setAge(java.math.BigInteger age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(AGE$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(AGE$4);
+            }
+            target.setBigIntegerValue(age);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "age" attribute
+     */
+    public void xsetAge(org.apache.xmlbeans.XmlInteger age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_attribute_user(AGE$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_attribute_user(AGE$4);
+            }
+            target.set(age);
+        }
+    }
+    
+    /**
+     * Unsets the "age" attribute
+     */
+    public void unsetAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(AGE$4);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: department
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.DepartmentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * A document containing one department(@http://xbean.usertype/multipleItems/company) element.
+ *
+ * This is a complex type.
+ */
+public class DepartmentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.multipleItems.company.DepartmentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DepartmentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean.usertype/multipleItems/company", "department");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 848184146:
+                if (name.equals(DEPARTMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "department" element
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType getDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.DepartmentType target = null;
+            target = (usertype.xbean.multipleItems.company.DepartmentType)get_store().find_element_user(DEPARTMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "department" element
+     */
+    public void setDepartment(usertype.xbean.multipleItems.company.DepartmentType department)
+    {
+        generatedSetterHelperImpl(department, DEPARTMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "department" element
+     */
+    public usertype.xbean.multipleItems.company.DepartmentType addNewDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.DepartmentType target = null;
+            target = (usertype.xbean.multipleItems.company.DepartmentType)get_store().add_element_user(DEPARTMENT$0);
+            return target;
+        }
+    }
+}
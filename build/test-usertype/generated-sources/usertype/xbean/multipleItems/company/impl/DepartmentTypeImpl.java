@@ -0,0 +1,143 @@
+/*
+ * XML Type:  DepartmentType
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.DepartmentType
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * An XML DepartmentType(@http://xbean.usertype/multipleItems/company).
+ *
+ * This is a complex type.
+ */
+public class DepartmentTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements usertype.xbean.multipleItems.company.DepartmentType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DepartmentTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONSULTANT$0 = 
+        new javax.xml.namespace.QName("", "consultant");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -166730117:
+                if (name.equals(CONSULTANT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "consultant" elements
+     */
+    public usertype.xbean.multipleItems.company.ConsultantType[] getConsultantArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONSULTANT$0, targetList);
+            usertype.xbean.multipleItems.company.ConsultantType[] result = new usertype.xbean.multipleItems.company.ConsultantType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "consultant" element
+     */
+    public usertype.xbean.multipleItems.company.ConsultantType getConsultantArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.ConsultantType target = null;
+            target = (usertype.xbean.multipleItems.company.ConsultantType)get_store().find_element_user(CONSULTANT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "consultant" element
+     */
+    public int sizeOfConsultantArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONSULTANT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "consultant" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConsultantArray(usertype.xbean.multipleItems.company.ConsultantType[] consultantArray)
+    {
+        check_orphaned();
+        arraySetterHelper(consultantArray, CONSULTANT$0);
+    }
+    
+    /**
+     * Sets ith "consultant" element
+     */
+    public void setConsultantArray(int i, usertype.xbean.multipleItems.company.ConsultantType consultant)
+    {
+        generatedSetterHelperImpl(consultant, CONSULTANT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "consultant" element
+     */
+    public usertype.xbean.multipleItems.company.ConsultantType insertNewConsultant(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.ConsultantType target = null;
+            target = (usertype.xbean.multipleItems.company.ConsultantType)get_store().insert_element_user(CONSULTANT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "consultant" element
+     */
+    public usertype.xbean.multipleItems.company.ConsultantType addNewConsultant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            usertype.xbean.multipleItems.company.ConsultantType target = null;
+            target = (usertype.xbean.multipleItems.company.ConsultantType)get_store().add_element_user(CONSULTANT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "consultant" element
+     */
+    public void removeConsultant(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONSULTANT$0, i);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  Room
+ * Namespace: http://xbean.usertype/multipleItems/company
+ * Java type: usertype.xbean.multipleItems.company.Room
+ *
+ * Automatically generated - do not modify.
+ */
+package usertype.xbean.multipleItems.company.impl;
+/**
+ * An XML Room(@http://xbean.usertype/multipleItems/company).
+ *
+ * This is an atomic type that is a restriction of usertype.xbean.multipleItems.company.Room.
+ */
+public class RoomImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements usertype.xbean.multipleItems.company.Room
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RoomImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected RoomImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * An XML document type.
+ * Localname: heading
+ * Namespace: http://www.foo.com/sample
+ * Java type: com.foo.sample.HeadingDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.foo.sample;
+
+
+/**
+ * A document containing one heading(@http://www.foo.com/sample) element.
+ *
+ * This is a complex type.
+ */
+public interface HeadingDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HeadingDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("heading70d2doctype");
+    
+    /**
+     * Gets the "heading" element
+     */
+    com.foo.sample.HeadingDocument.Heading getHeading();
+    
+    /**
+     * Sets the "heading" element
+     */
+    void setHeading(com.foo.sample.HeadingDocument.Heading heading);
+    
+    /**
+     * Appends and returns a new empty "heading" element
+     */
+    com.foo.sample.HeadingDocument.Heading addNewHeading();
+    
+    /**
+     * An XML heading(@http://www.foo.com/sample).
+     *
+     * This is a complex type.
+     */
+    public interface Heading extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Heading.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("heading6c40elemtype");
+        
+        /**
+         * Gets the "code" attribute
+         */
+        java.lang.String getCode();
+        
+        /**
+         * Gets (as xml) the "code" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetCode();
+        
+        /**
+         * Sets the "code" attribute
+         */
+        void setCode(java.lang.String code);
+        
+        /**
+         * Sets (as xml) the "code" attribute
+         */
+        void xsetCode(org.apache.xmlbeans.XmlString code);
+        
+        /**
+         * Gets the "name" attribute
+         */
+        java.lang.String getName();
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetName();
+        
+        /**
+         * Sets the "name" attribute
+         */
+        void setName(java.lang.String name);
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        void xsetName(org.apache.xmlbeans.XmlString name);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.foo.sample.HeadingDocument.Heading newInstance() {
+              return (com.foo.sample.HeadingDocument.Heading) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.foo.sample.HeadingDocument.Heading newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.foo.sample.HeadingDocument.Heading) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.foo.sample.HeadingDocument newInstance() {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.foo.sample.HeadingDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.foo.sample.HeadingDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.foo.sample.HeadingDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.foo.sample.HeadingDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.foo.sample.HeadingDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.foo.sample.HeadingDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.foo.sample.HeadingDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.foo.sample.HeadingDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.foo.sample.HeadingDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * An XML document type.
+ * Localname: heading
+ * Namespace: http://www.foo.com/sample
+ * Java type: com.foo.sample.HeadingDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.foo.sample.impl;
+/**
+ * A document containing one heading(@http://www.foo.com/sample) element.
+ *
+ * This is a complex type.
+ */
+public class HeadingDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.foo.sample.HeadingDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HeadingDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HEADING$0 = 
+        new javax.xml.namespace.QName("http://www.foo.com/sample", "heading");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 795311618:
+                if (name.equals(HEADING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "heading" element
+     */
+    public com.foo.sample.HeadingDocument.Heading getHeading()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.foo.sample.HeadingDocument.Heading target = null;
+            target = (com.foo.sample.HeadingDocument.Heading)get_store().find_element_user(HEADING$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "heading" element
+     */
+    public void setHeading(com.foo.sample.HeadingDocument.Heading heading)
+    {
+        generatedSetterHelperImpl(heading, HEADING$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "heading" element
+     */
+    public com.foo.sample.HeadingDocument.Heading addNewHeading()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.foo.sample.HeadingDocument.Heading target = null;
+            target = (com.foo.sample.HeadingDocument.Heading)get_store().add_element_user(HEADING$0);
+            return target;
+        }
+    }
+    /**
+     * An XML heading(@http://www.foo.com/sample).
+     *
+     * This is a complex type.
+     */
+    public static class HeadingImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.foo.sample.HeadingDocument.Heading
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public HeadingImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CODE$0 = 
+            new javax.xml.namespace.QName("", "code");
+        private static final javax.xml.namespace.QName NAME$2 = 
+            new javax.xml.namespace.QName("", "name");
+        
+        
+        /**
+         * Gets the "code" attribute
+         */
+        public java.lang.String getCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CODE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "code" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CODE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "code" attribute
+         */
+        public void setCode(java.lang.String code)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CODE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CODE$0);
+                }
+                target.setStringValue(code);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "code" attribute
+         */
+        public void xsetCode(org.apache.xmlbeans.XmlString code)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CODE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(CODE$0);
+                }
+                target.set(code);
+            }
+        }
+        
+        /**
+         * Gets the "name" attribute
+         */
+        public java.lang.String getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "name" attribute
+         */
+        public void setName(java.lang.String name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$2);
+                }
+                target.setStringValue(name);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        public void xsetName(org.apache.xmlbeans.XmlString name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$2);
+                }
+                target.set(name);
+            }
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * An XML document type.
+ * Localname: Location
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.LocationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location;
+
+
+/**
+ * A document containing one Location(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public interface LocationDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LocationDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("locationf59bdoctype");
+    
+    /**
+     * Gets the "Location" element
+     */
+    org.openuri.test.location.LocationDocument.Location getLocation();
+    
+    /**
+     * Sets the "Location" element
+     */
+    void setLocation(org.openuri.test.location.LocationDocument.Location location);
+    
+    /**
+     * Appends and returns a new empty "Location" element
+     */
+    org.openuri.test.location.LocationDocument.Location addNewLocation();
+    
+    /**
+     * An XML Location(@http://openuri.org/test/Location).
+     *
+     * This is a complex type.
+     */
+    public interface Location extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Location.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("locationc48celemtype");
+        
+        /**
+         * Gets the "CityName" element
+         */
+        java.lang.String getCityName();
+        
+        /**
+         * Gets (as xml) the "CityName" element
+         */
+        org.apache.xmlbeans.XmlString xgetCityName();
+        
+        /**
+         * True if has "CityName" element
+         */
+        boolean isSetCityName();
+        
+        /**
+         * Sets the "CityName" element
+         */
+        void setCityName(java.lang.String cityName);
+        
+        /**
+         * Sets (as xml) the "CityName" element
+         */
+        void xsetCityName(org.apache.xmlbeans.XmlString cityName);
+        
+        /**
+         * Unsets the "CityName" element
+         */
+        void unsetCityName();
+        
+        /**
+         * Gets the "StateCode" element
+         */
+        java.lang.String getStateCode();
+        
+        /**
+         * Gets (as xml) the "StateCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetStateCode();
+        
+        /**
+         * True if has "StateCode" element
+         */
+        boolean isSetStateCode();
+        
+        /**
+         * Sets the "StateCode" element
+         */
+        void setStateCode(java.lang.String stateCode);
+        
+        /**
+         * Sets (as xml) the "StateCode" element
+         */
+        void xsetStateCode(org.apache.xmlbeans.XmlString stateCode);
+        
+        /**
+         * Unsets the "StateCode" element
+         */
+        void unsetStateCode();
+        
+        /**
+         * Gets the "PostalCode" element
+         */
+        java.lang.String getPostalCode();
+        
+        /**
+         * Gets (as xml) the "PostalCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetPostalCode();
+        
+        /**
+         * True if has "PostalCode" element
+         */
+        boolean isSetPostalCode();
+        
+        /**
+         * Sets the "PostalCode" element
+         */
+        void setPostalCode(java.lang.String postalCode);
+        
+        /**
+         * Sets (as xml) the "PostalCode" element
+         */
+        void xsetPostalCode(org.apache.xmlbeans.XmlString postalCode);
+        
+        /**
+         * Unsets the "PostalCode" element
+         */
+        void unsetPostalCode();
+        
+        /**
+         * Gets the "CountryCode" element
+         */
+        java.lang.String getCountryCode();
+        
+        /**
+         * Gets (as xml) the "CountryCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetCountryCode();
+        
+        /**
+         * True if has "CountryCode" element
+         */
+        boolean isSetCountryCode();
+        
+        /**
+         * Sets the "CountryCode" element
+         */
+        void setCountryCode(java.lang.String countryCode);
+        
+        /**
+         * Sets (as xml) the "CountryCode" element
+         */
+        void xsetCountryCode(org.apache.xmlbeans.XmlString countryCode);
+        
+        /**
+         * Unsets the "CountryCode" element
+         */
+        void unsetCountryCode();
+        
+        /**
+         * Gets the "LocationIdentifier" element
+         */
+        java.lang.String getLocationIdentifier();
+        
+        /**
+         * Gets (as xml) the "LocationIdentifier" element
+         */
+        org.apache.xmlbeans.XmlString xgetLocationIdentifier();
+        
+        /**
+         * True if has "LocationIdentifier" element
+         */
+        boolean isSetLocationIdentifier();
+        
+        /**
+         * Sets the "LocationIdentifier" element
+         */
+        void setLocationIdentifier(java.lang.String locationIdentifier);
+        
+        /**
+         * Sets (as xml) the "LocationIdentifier" element
+         */
+        void xsetLocationIdentifier(org.apache.xmlbeans.XmlString locationIdentifier);
+        
+        /**
+         * Unsets the "LocationIdentifier" element
+         */
+        void unsetLocationIdentifier();
+        
+        /**
+         * Gets the "SPLC" element
+         */
+        java.lang.String getSPLC();
+        
+        /**
+         * Gets (as xml) the "SPLC" element
+         */
+        org.apache.xmlbeans.XmlString xgetSPLC();
+        
+        /**
+         * True if has "SPLC" element
+         */
+        boolean isSetSPLC();
+        
+        /**
+         * Sets the "SPLC" element
+         */
+        void setSPLC(java.lang.String splc);
+        
+        /**
+         * Sets (as xml) the "SPLC" element
+         */
+        void xsetSPLC(org.apache.xmlbeans.XmlString splc);
+        
+        /**
+         * Unsets the "SPLC" element
+         */
+        void unsetSPLC();
+        
+        /**
+         * Gets the "SubdivisionCode" element
+         */
+        java.lang.String getSubdivisionCode();
+        
+        /**
+         * Gets (as xml) the "SubdivisionCode" element
+         */
+        org.apache.xmlbeans.XmlString xgetSubdivisionCode();
+        
+        /**
+         * True if has "SubdivisionCode" element
+         */
+        boolean isSetSubdivisionCode();
+        
+        /**
+         * Sets the "SubdivisionCode" element
+         */
+        void setSubdivisionCode(java.lang.String subdivisionCode);
+        
+        /**
+         * Sets (as xml) the "SubdivisionCode" element
+         */
+        void xsetSubdivisionCode(org.apache.xmlbeans.XmlString subdivisionCode);
+        
+        /**
+         * Unsets the "SubdivisionCode" element
+         */
+        void unsetSubdivisionCode();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.test.location.LocationDocument.Location newInstance() {
+              return (org.openuri.test.location.LocationDocument.Location) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.test.location.LocationDocument.Location newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.test.location.LocationDocument.Location) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.test.location.LocationDocument newInstance() {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.test.location.LocationDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.test.location.LocationDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.test.location.LocationDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.location.LocationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.location.LocationDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.location.LocationDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
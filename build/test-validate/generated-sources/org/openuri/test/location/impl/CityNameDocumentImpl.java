@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: CityName
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.CityNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one CityName(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class CityNameDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.CityNameDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CityNameDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CITYNAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "CityName");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1357037898:
+                if (name.equals(CITYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CityName" element
+     */
+    public java.lang.String getCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CityName" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCityName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITYNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CityName" element
+     */
+    public void setCityName(java.lang.String cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITYNAME$0);
+            }
+            target.setStringValue(cityName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CityName" element
+     */
+    public void xsetCityName(org.apache.xmlbeans.XmlString cityName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITYNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CITYNAME$0);
+            }
+            target.set(cityName);
+        }
+    }
+}
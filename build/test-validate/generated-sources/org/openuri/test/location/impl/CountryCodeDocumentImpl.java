@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: CountryCode
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.CountryCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one CountryCode(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class CountryCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.CountryCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CountryCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COUNTRYCODE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "CountryCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 190801539:
+                if (name.equals(COUNTRYCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "CountryCode" element
+     */
+    public java.lang.String getCountryCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "CountryCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCountryCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "CountryCode" element
+     */
+    public void setCountryCode(java.lang.String countryCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COUNTRYCODE$0);
+            }
+            target.setStringValue(countryCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "CountryCode" element
+     */
+    public void xsetCountryCode(org.apache.xmlbeans.XmlString countryCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COUNTRYCODE$0);
+            }
+            target.set(countryCode);
+        }
+    }
+}
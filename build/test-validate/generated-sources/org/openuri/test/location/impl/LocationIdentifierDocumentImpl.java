@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: LocationIdentifier
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.LocationIdentifierDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one LocationIdentifier(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class LocationIdentifierDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.LocationIdentifierDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocationIdentifierDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCATIONIDENTIFIER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "LocationIdentifier");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 795182686:
+                if (name.equals(LOCATIONIDENTIFIER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "LocationIdentifier" element
+     */
+    public java.lang.String getLocationIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATIONIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "LocationIdentifier" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLocationIdentifier()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCATIONIDENTIFIER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "LocationIdentifier" element
+     */
+    public void setLocationIdentifier(java.lang.String locationIdentifier)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATIONIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCATIONIDENTIFIER$0);
+            }
+            target.setStringValue(locationIdentifier);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "LocationIdentifier" element
+     */
+    public void xsetLocationIdentifier(org.apache.xmlbeans.XmlString locationIdentifier)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCATIONIDENTIFIER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LOCATIONIDENTIFIER$0);
+            }
+            target.set(locationIdentifier);
+        }
+    }
+}
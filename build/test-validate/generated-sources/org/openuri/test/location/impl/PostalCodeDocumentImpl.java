@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: PostalCode
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.PostalCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one PostalCode(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class PostalCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.PostalCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PostalCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName POSTALCODE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "PostalCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -290349704:
+                if (name.equals(POSTALCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "PostalCode" element
+     */
+    public java.lang.String getPostalCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "PostalCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetPostalCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "PostalCode" element
+     */
+    public void setPostalCode(java.lang.String postalCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(POSTALCODE$0);
+            }
+            target.setStringValue(postalCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "PostalCode" element
+     */
+    public void xsetPostalCode(org.apache.xmlbeans.XmlString postalCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(POSTALCODE$0);
+            }
+            target.set(postalCode);
+        }
+    }
+}
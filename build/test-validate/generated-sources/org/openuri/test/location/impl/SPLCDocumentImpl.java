@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: SPLC
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.SPLCDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one SPLC(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class SPLCDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.SPLCDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SPLCDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SPLC$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "SPLC");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2551956:
+                if (name.equals(SPLC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SPLC" element
+     */
+    public java.lang.String getSPLC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SPLC" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSPLC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SPLC" element
+     */
+    public void setSPLC(java.lang.String splc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SPLC$0);
+            }
+            target.setStringValue(splc);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SPLC" element
+     */
+    public void xsetSPLC(org.apache.xmlbeans.XmlString splc)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SPLC$0);
+            }
+            target.set(splc);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: StateCode
+ * Namespace: http://openuri.org/test/Location
+ * Java type: org.openuri.test.location.StateCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.location.impl;
+/**
+ * A document containing one StateCode(@http://openuri.org/test/Location) element.
+ *
+ * This is a complex type.
+ */
+public class StateCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.location.StateCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StateCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STATECODE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Location", "StateCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -82422274:
+                if (name.equals(STATECODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "StateCode" element
+     */
+    public java.lang.String getStateCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATECODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "StateCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStateCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATECODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "StateCode" element
+     */
+    public void setStateCode(java.lang.String stateCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATECODE$0);
+            }
+            target.setStringValue(stateCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "StateCode" element
+     */
+    public void xsetStateCode(org.apache.xmlbeans.XmlString stateCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATECODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATECODE$0);
+            }
+            target.set(stateCode);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  letterTypeNoMixed
+ * Namespace: http://openuri.org/test/MixedContent
+ * Java type: org.openuri.test.mixedContent.LetterTypeNoMixed
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.mixedContent;
+
+
+/**
+ * An XML letterTypeNoMixed(@http://openuri.org/test/MixedContent).
+ *
+ * This is a complex type.
+ */
+public interface LetterTypeNoMixed extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LetterTypeNoMixed.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("lettertypenomixed8541type");
+    
+    /**
+     * Gets the "name" element
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * Sets the "name" element
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Gets the "orderid" element
+     */
+    java.math.BigInteger getOrderid();
+    
+    /**
+     * Gets (as xml) the "orderid" element
+     */
+    org.apache.xmlbeans.XmlPositiveInteger xgetOrderid();
+    
+    /**
+     * Sets the "orderid" element
+     */
+    void setOrderid(java.math.BigInteger orderid);
+    
+    /**
+     * Sets (as xml) the "orderid" element
+     */
+    void xsetOrderid(org.apache.xmlbeans.XmlPositiveInteger orderid);
+    
+    /**
+     * Gets the "shipdate" element
+     */
+    java.util.Calendar getShipdate();
+    
+    /**
+     * Gets (as xml) the "shipdate" element
+     */
+    org.apache.xmlbeans.XmlDate xgetShipdate();
+    
+    /**
+     * Sets the "shipdate" element
+     */
+    void setShipdate(java.util.Calendar shipdate);
+    
+    /**
+     * Sets (as xml) the "shipdate" element
+     */
+    void xsetShipdate(org.apache.xmlbeans.XmlDate shipdate);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed newInstance() {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.mixedContent.LetterTypeNoMixed parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.mixedContent.LetterTypeNoMixed) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Letter
+ * Namespace: http://openuri.org/test/MixedContent
+ * Java type: org.openuri.test.mixedContent.LetterDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.mixedContent.impl;
+/**
+ * A document containing one Letter(@http://openuri.org/test/MixedContent) element.
+ *
+ * This is a complex type.
+ */
+public class LetterDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.mixedContent.LetterDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LetterDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LETTER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/MixedContent", "Letter");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2022305722:
+                if (name.equals(LETTER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Letter" element
+     */
+    public org.openuri.test.mixedContent.LetterType getLetter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.mixedContent.LetterType target = null;
+            target = (org.openuri.test.mixedContent.LetterType)get_store().find_element_user(LETTER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Letter" element
+     */
+    public void setLetter(org.openuri.test.mixedContent.LetterType letter)
+    {
+        generatedSetterHelperImpl(letter, LETTER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Letter" element
+     */
+    public org.openuri.test.mixedContent.LetterType addNewLetter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.mixedContent.LetterType target = null;
+            target = (org.openuri.test.mixedContent.LetterType)get_store().add_element_user(LETTER$0);
+            return target;
+        }
+    }
+}
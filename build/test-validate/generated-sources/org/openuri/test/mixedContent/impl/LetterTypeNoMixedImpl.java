@@ -0,0 +1,256 @@
+/*
+ * XML Type:  letterTypeNoMixed
+ * Namespace: http://openuri.org/test/MixedContent
+ * Java type: org.openuri.test.mixedContent.LetterTypeNoMixed
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.mixedContent.impl;
+/**
+ * An XML letterTypeNoMixed(@http://openuri.org/test/MixedContent).
+ *
+ * This is a complex type.
+ */
+public class LetterTypeNoMixedImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.mixedContent.LetterTypeNoMixed
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LetterTypeNoMixedImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/MixedContent", "name");
+    private static final javax.xml.namespace.QName ORDERID$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/MixedContent", "orderid");
+    private static final javax.xml.namespace.QName SHIPDATE$4 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/MixedContent", "shipdate");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1207109399:
+                if (name.equals(ORDERID$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -516600854:
+                if (name.equals(SHIPDATE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Gets the "orderid" element
+     */
+    public java.math.BigInteger getOrderid()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "orderid" element
+     */
+    public org.apache.xmlbeans.XmlPositiveInteger xgetOrderid()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(ORDERID$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "orderid" element
+     */
+    public void setOrderid(java.math.BigInteger orderid)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERID$2);
+            }
+            target.setBigIntegerValue(orderid);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "orderid" element
+     */
+    public void xsetOrderid(org.apache.xmlbeans.XmlPositiveInteger orderid)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlPositiveInteger target = null;
+            target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().find_element_user(ORDERID$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlPositiveInteger)get_store().add_element_user(ORDERID$2);
+            }
+            target.set(orderid);
+        }
+    }
+    
+    /**
+     * Gets the "shipdate" element
+     */
+    public java.util.Calendar getShipdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "shipdate" element
+     */
+    public org.apache.xmlbeans.XmlDate xgetShipdate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "shipdate" element
+     */
+    public void setShipdate(java.util.Calendar shipdate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPDATE$4);
+            }
+            target.setCalendarValue(shipdate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "shipdate" element
+     */
+    public void xsetShipdate(org.apache.xmlbeans.XmlDate shipdate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(SHIPDATE$4);
+            }
+            target.set(shipdate);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: NoMixed
+ * Namespace: http://openuri.org/test/MixedContent
+ * Java type: org.openuri.test.mixedContent.NoMixedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.mixedContent.impl;
+/**
+ * A document containing one NoMixed(@http://openuri.org/test/MixedContent) element.
+ *
+ * This is a complex type.
+ */
+public class NoMixedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.mixedContent.NoMixedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NoMixedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NOMIXED$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/MixedContent", "NoMixed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -536963430:
+                if (name.equals(NOMIXED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "NoMixed" element
+     */
+    public org.openuri.test.mixedContent.LetterTypeNoMixed getNoMixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.mixedContent.LetterTypeNoMixed target = null;
+            target = (org.openuri.test.mixedContent.LetterTypeNoMixed)get_store().find_element_user(NOMIXED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "NoMixed" element
+     */
+    public void setNoMixed(org.openuri.test.mixedContent.LetterTypeNoMixed noMixed)
+    {
+        generatedSetterHelperImpl(noMixed, NOMIXED$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "NoMixed" element
+     */
+    public org.openuri.test.mixedContent.LetterTypeNoMixed addNewNoMixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.mixedContent.LetterTypeNoMixed target = null;
+            target = (org.openuri.test.mixedContent.LetterTypeNoMixed)get_store().add_element_user(NOMIXED$0);
+            return target;
+        }
+    }
+}
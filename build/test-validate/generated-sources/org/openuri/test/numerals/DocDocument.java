@@ -0,0 +1,1329 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://openuri.org/test/Numerals
+ * Java type: org.openuri.test.numerals.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.numerals;
+
+
+/**
+ * A document containing one doc(@http://openuri.org/test/Numerals) element.
+ *
+ * This is a complex type.
+ */
+public interface DocDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DocDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("doce34adoctype");
+    
+    /**
+     * Gets the "doc" element
+     */
+    org.openuri.test.numerals.DocDocument.Doc getDoc();
+    
+    /**
+     * Sets the "doc" element
+     */
+    void setDoc(org.openuri.test.numerals.DocDocument.Doc doc);
+    
+    /**
+     * Appends and returns a new empty "doc" element
+     */
+    org.openuri.test.numerals.DocDocument.Doc addNewDoc();
+    
+    /**
+     * An XML doc(@http://openuri.org/test/Numerals).
+     *
+     * This is a complex type.
+     */
+    public interface Doc extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Doc.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sVALIDATE").resolveHandle("docfd26elemtype");
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        int[] getIntArray();
+        
+        /**
+         * Gets ith "int" element
+         */
+        int getIntArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "int" elements
+         */
+        org.apache.xmlbeans.XmlInt[] xgetIntArray();
+        
+        /**
+         * Gets (as xml) ith "int" element
+         */
+        org.apache.xmlbeans.XmlInt xgetIntArray(int i);
+        
+        /**
+         * Returns number of "int" element
+         */
+        int sizeOfIntArray();
+        
+        /**
+         * Sets array of all "int" element
+         */
+        void setIntArray(int[] xintArray);
+        
+        /**
+         * Sets ith "int" element
+         */
+        void setIntArray(int i, int xint);
+        
+        /**
+         * Sets (as xml) array of all "int" element
+         */
+        void xsetIntArray(org.apache.xmlbeans.XmlInt[] xintArray);
+        
+        /**
+         * Sets (as xml) ith "int" element
+         */
+        void xsetIntArray(int i, org.apache.xmlbeans.XmlInt xint);
+        
+        /**
+         * Inserts the value as the ith "int" element
+         */
+        void insertInt(int i, int xint);
+        
+        /**
+         * Appends the value as the last "int" element
+         */
+        void addInt(int xint);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "int" element
+         */
+        org.apache.xmlbeans.XmlInt insertNewInt(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "int" element
+         */
+        org.apache.xmlbeans.XmlInt addNewInt();
+        
+        /**
+         * Removes the ith "int" element
+         */
+        void removeInt(int i);
+        
+        /**
+         * Gets array of all "short" elements
+         */
+        short[] getShortArray();
+        
+        /**
+         * Gets ith "short" element
+         */
+        short getShortArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "short" elements
+         */
+        org.apache.xmlbeans.XmlShort[] xgetShortArray();
+        
+        /**
+         * Gets (as xml) ith "short" element
+         */
+        org.apache.xmlbeans.XmlShort xgetShortArray(int i);
+        
+        /**
+         * Returns number of "short" element
+         */
+        int sizeOfShortArray();
+        
+        /**
+         * Sets array of all "short" element
+         */
+        void setShortArray(short[] xshortArray);
+        
+        /**
+         * Sets ith "short" element
+         */
+        void setShortArray(int i, short xshort);
+        
+        /**
+         * Sets (as xml) array of all "short" element
+         */
+        void xsetShortArray(org.apache.xmlbeans.XmlShort[] xshortArray);
+        
+        /**
+         * Sets (as xml) ith "short" element
+         */
+        void xsetShortArray(int i, org.apache.xmlbeans.XmlShort xshort);
+        
+        /**
+         * Inserts the value as the ith "short" element
+         */
+        void insertShort(int i, short xshort);
+        
+        /**
+         * Appends the value as the last "short" element
+         */
+        void addShort(short xshort);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "short" element
+         */
+        org.apache.xmlbeans.XmlShort insertNewShort(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "short" element
+         */
+        org.apache.xmlbeans.XmlShort addNewShort();
+        
+        /**
+         * Removes the ith "short" element
+         */
+        void removeShort(int i);
+        
+        /**
+         * Gets array of all "byte" elements
+         */
+        byte[] getByteArray();
+        
+        /**
+         * Gets ith "byte" element
+         */
+        byte getByteArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "byte" elements
+         */
+        org.apache.xmlbeans.XmlByte[] xgetByteArray();
+        
+        /**
+         * Gets (as xml) ith "byte" element
+         */
+        org.apache.xmlbeans.XmlByte xgetByteArray(int i);
+        
+        /**
+         * Returns number of "byte" element
+         */
+        int sizeOfByteArray();
+        
+        /**
+         * Sets array of all "byte" element
+         */
+        void setByteArray(byte[] xbyteArray);
+        
+        /**
+         * Sets ith "byte" element
+         */
+        void setByteArray(int i, byte xbyte);
+        
+        /**
+         * Sets (as xml) array of all "byte" element
+         */
+        void xsetByteArray(org.apache.xmlbeans.XmlByte[] xbyteArray);
+        
+        /**
+         * Sets (as xml) ith "byte" element
+         */
+        void xsetByteArray(int i, org.apache.xmlbeans.XmlByte xbyte);
+        
+        /**
+         * Inserts the value as the ith "byte" element
+         */
+        void insertByte(int i, byte xbyte);
+        
+        /**
+         * Appends the value as the last "byte" element
+         */
+        void addByte(byte xbyte);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "byte" element
+         */
+        org.apache.xmlbeans.XmlByte insertNewByte(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "byte" element
+         */
+        org.apache.xmlbeans.XmlByte addNewByte();
+        
+        /**
+         * Removes the ith "byte" element
+         */
+        void removeByte(int i);
+        
+        /**
+         * Gets array of all "double" elements
+         */
+        double[] getDoubleArray();
+        
+        /**
+         * Gets ith "double" element
+         */
+        double getDoubleArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "double" elements
+         */
+        org.apache.xmlbeans.XmlDouble[] xgetDoubleArray();
+        
+        /**
+         * Gets (as xml) ith "double" element
+         */
+        org.apache.xmlbeans.XmlDouble xgetDoubleArray(int i);
+        
+        /**
+         * Returns number of "double" element
+         */
+        int sizeOfDoubleArray();
+        
+        /**
+         * Sets array of all "double" element
+         */
+        void setDoubleArray(double[] xdoubleArray);
+        
+        /**
+         * Sets ith "double" element
+         */
+        void setDoubleArray(int i, double xdouble);
+        
+        /**
+         * Sets (as xml) array of all "double" element
+         */
+        void xsetDoubleArray(org.apache.xmlbeans.XmlDouble[] xdoubleArray);
+        
+        /**
+         * Sets (as xml) ith "double" element
+         */
+        void xsetDoubleArray(int i, org.apache.xmlbeans.XmlDouble xdouble);
+        
+        /**
+         * Inserts the value as the ith "double" element
+         */
+        void insertDouble(int i, double xdouble);
+        
+        /**
+         * Appends the value as the last "double" element
+         */
+        void addDouble(double xdouble);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "double" element
+         */
+        org.apache.xmlbeans.XmlDouble insertNewDouble(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "double" element
+         */
+        org.apache.xmlbeans.XmlDouble addNewDouble();
+        
+        /**
+         * Removes the ith "double" element
+         */
+        void removeDouble(int i);
+        
+        /**
+         * Gets array of all "float" elements
+         */
+        float[] getFloatArray();
+        
+        /**
+         * Gets ith "float" element
+         */
+        float getFloatArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "float" elements
+         */
+        org.apache.xmlbeans.XmlFloat[] xgetFloatArray();
+        
+        /**
+         * Gets (as xml) ith "float" element
+         */
+        org.apache.xmlbeans.XmlFloat xgetFloatArray(int i);
+        
+        /**
+         * Returns number of "float" element
+         */
+        int sizeOfFloatArray();
+        
+        /**
+         * Sets array of all "float" element
+         */
+        void setFloatArray(float[] xfloatArray);
+        
+        /**
+         * Sets ith "float" element
+         */
+        void setFloatArray(int i, float xfloat);
+        
+        /**
+         * Sets (as xml) array of all "float" element
+         */
+        void xsetFloatArray(org.apache.xmlbeans.XmlFloat[] xfloatArray);
+        
+        /**
+         * Sets (as xml) ith "float" element
+         */
+        void xsetFloatArray(int i, org.apache.xmlbeans.XmlFloat xfloat);
+        
+        /**
+         * Inserts the value as the ith "float" element
+         */
+        void insertFloat(int i, float xfloat);
+        
+        /**
+         * Appends the value as the last "float" element
+         */
+        void addFloat(float xfloat);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "float" element
+         */
+        org.apache.xmlbeans.XmlFloat insertNewFloat(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "float" element
+         */
+        org.apache.xmlbeans.XmlFloat addNewFloat();
+        
+        /**
+         * Removes the ith "float" element
+         */
+        void removeFloat(int i);
+        
+        /**
+         * Gets array of all "boolean" elements
+         */
+        boolean[] getBooleanArray();
+        
+        /**
+         * Gets ith "boolean" element
+         */
+        boolean getBooleanArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "boolean" elements
+         */
+        org.apache.xmlbeans.XmlBoolean[] xgetBooleanArray();
+        
+        /**
+         * Gets (as xml) ith "boolean" element
+         */
+        org.apache.xmlbeans.XmlBoolean xgetBooleanArray(int i);
+        
+        /**
+         * Returns number of "boolean" element
+         */
+        int sizeOfBooleanArray();
+        
+        /**
+         * Sets array of all "boolean" element
+         */
+        void setBooleanArray(boolean[] xbooleanArray);
+        
+        /**
+         * Sets ith "boolean" element
+         */
+        void setBooleanArray(int i, boolean xboolean);
+        
+        /**
+         * Sets (as xml) array of all "boolean" element
+         */
+        void xsetBooleanArray(org.apache.xmlbeans.XmlBoolean[] xbooleanArray);
+        
+        /**
+         * Sets (as xml) ith "boolean" element
+         */
+        void xsetBooleanArray(int i, org.apache.xmlbeans.XmlBoolean xboolean);
+        
+        /**
+         * Inserts the value as the ith "boolean" element
+         */
+        void insertBoolean(int i, boolean xboolean);
+        
+        /**
+         * Appends the value as the last "boolean" element
+         */
+        void addBoolean(boolean xboolean);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "boolean" element
+         */
+        org.apache.xmlbeans.XmlBoolean insertNewBoolean(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "boolean" element
+         */
+        org.apache.xmlbeans.XmlBoolean addNewBoolean();
+        
+        /**
+         * Removes the ith "boolean" element
+         */
+        void removeBoolean(int i);
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        java.lang.String[] getStringArray();
+        
+        /**
+         * Gets ith "string" element
+         */
+        java.lang.String getStringArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "string" elements
+         */
+        org.apache.xmlbeans.XmlString[] xgetStringArray();
+        
+        /**
+         * Gets (as xml) ith "string" element
+         */
+        org.apache.xmlbeans.XmlString xgetStringArray(int i);
+        
+        /**
+         * Returns number of "string" element
+         */
+        int sizeOfStringArray();
+        
+        /**
+         * Sets array of all "string" element
+         */
+        void setStringArray(java.lang.String[] stringArray);
+        
+        /**
+         * Sets ith "string" element
+         */
+        void setStringArray(int i, java.lang.String string);
+        
+        /**
+         * Sets (as xml) array of all "string" element
+         */
+        void xsetStringArray(org.apache.xmlbeans.XmlString[] stringArray);
+        
+        /**
+         * Sets (as xml) ith "string" element
+         */
+        void xsetStringArray(int i, org.apache.xmlbeans.XmlString string);
+        
+        /**
+         * Inserts the value as the ith "string" element
+         */
+        void insertString(int i, java.lang.String string);
+        
+        /**
+         * Appends the value as the last "string" element
+         */
+        void addString(java.lang.String string);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "string" element
+         */
+        org.apache.xmlbeans.XmlString insertNewString(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "string" element
+         */
+        org.apache.xmlbeans.XmlString addNewString();
+        
+        /**
+         * Removes the ith "string" element
+         */
+        void removeString(int i);
+        
+        /**
+         * Gets array of all "decimal" elements
+         */
+        java.math.BigDecimal[] getDecimalArray();
+        
+        /**
+         * Gets ith "decimal" element
+         */
+        java.math.BigDecimal getDecimalArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "decimal" elements
+         */
+        org.apache.xmlbeans.XmlDecimal[] xgetDecimalArray();
+        
+        /**
+         * Gets (as xml) ith "decimal" element
+         */
+        org.apache.xmlbeans.XmlDecimal xgetDecimalArray(int i);
+        
+        /**
+         * Returns number of "decimal" element
+         */
+        int sizeOfDecimalArray();
+        
+        /**
+         * Sets array of all "decimal" element
+         */
+        void setDecimalArray(java.math.BigDecimal[] decimalArray);
+        
+        /**
+         * Sets ith "decimal" element
+         */
+        void setDecimalArray(int i, java.math.BigDecimal decimal);
+        
+        /**
+         * Sets (as xml) array of all "decimal" element
+         */
+        void xsetDecimalArray(org.apache.xmlbeans.XmlDecimal[] decimalArray);
+        
+        /**
+         * Sets (as xml) ith "decimal" element
+         */
+        void xsetDecimalArray(int i, org.apache.xmlbeans.XmlDecimal decimal);
+        
+        /**
+         * Inserts the value as the ith "decimal" element
+         */
+        void insertDecimal(int i, java.math.BigDecimal decimal);
+        
+        /**
+         * Appends the value as the last "decimal" element
+         */
+        void addDecimal(java.math.BigDecimal decimal);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "decimal" element
+         */
+        org.apache.xmlbeans.XmlDecimal insertNewDecimal(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "decimal" element
+         */
+        org.apache.xmlbeans.XmlDecimal addNewDecimal();
+        
+        /**
+         * Removes the ith "decimal" element
+         */
+        void removeDecimal(int i);
+        
+        /**
+         * Gets array of all "integer" elements
+         */
+        java.math.BigInteger[] getIntegerArray();
+        
+        /**
+         * Gets ith "integer" element
+         */
+        java.math.BigInteger getIntegerArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "integer" elements
+         */
+        org.apache.xmlbeans.XmlInteger[] xgetIntegerArray();
+        
+        /**
+         * Gets (as xml) ith "integer" element
+         */
+        org.apache.xmlbeans.XmlInteger xgetIntegerArray(int i);
+        
+        /**
+         * Returns number of "integer" element
+         */
+        int sizeOfIntegerArray();
+        
+        /**
+         * Sets array of all "integer" element
+         */
+        void setIntegerArray(java.math.BigInteger[] integerArray);
+        
+        /**
+         * Sets ith "integer" element
+         */
+        void setIntegerArray(int i, java.math.BigInteger integer);
+        
+        /**
+         * Sets (as xml) array of all "integer" element
+         */
+        void xsetIntegerArray(org.apache.xmlbeans.XmlInteger[] integerArray);
+        
+        /**
+         * Sets (as xml) ith "integer" element
+         */
+        void xsetIntegerArray(int i, org.apache.xmlbeans.XmlInteger integer);
+        
+        /**
+         * Inserts the value as the ith "integer" element
+         */
+        void insertInteger(int i, java.math.BigInteger integer);
+        
+        /**
+         * Appends the value as the last "integer" element
+         */
+        void addInteger(java.math.BigInteger integer);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "integer" element
+         */
+        org.apache.xmlbeans.XmlInteger insertNewInteger(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "integer" element
+         */
+        org.apache.xmlbeans.XmlInteger addNewInteger();
+        
+        /**
+         * Removes the ith "integer" element
+         */
+        void removeInteger(int i);
+        
+        /**
+         * Gets array of all "long" elements
+         */
+        long[] getLongArray();
+        
+        /**
+         * Gets ith "long" element
+         */
+        long getLongArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "long" elements
+         */
+        org.apache.xmlbeans.XmlLong[] xgetLongArray();
+        
+        /**
+         * Gets (as xml) ith "long" element
+         */
+        org.apache.xmlbeans.XmlLong xgetLongArray(int i);
+        
+        /**
+         * Returns number of "long" element
+         */
+        int sizeOfLongArray();
+        
+        /**
+         * Sets array of all "long" element
+         */
+        void setLongArray(long[] xlongArray);
+        
+        /**
+         * Sets ith "long" element
+         */
+        void setLongArray(int i, long xlong);
+        
+        /**
+         * Sets (as xml) array of all "long" element
+         */
+        void xsetLongArray(org.apache.xmlbeans.XmlLong[] xlongArray);
+        
+        /**
+         * Sets (as xml) ith "long" element
+         */
+        void xsetLongArray(int i, org.apache.xmlbeans.XmlLong xlong);
+        
+        /**
+         * Inserts the value as the ith "long" element
+         */
+        void insertLong(int i, long xlong);
+        
+        /**
+         * Appends the value as the last "long" element
+         */
+        void addLong(long xlong);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "long" element
+         */
+        org.apache.xmlbeans.XmlLong insertNewLong(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "long" element
+         */
+        org.apache.xmlbeans.XmlLong addNewLong();
+        
+        /**
+         * Removes the ith "long" element
+         */
+        void removeLong(int i);
+        
+        /**
+         * Gets array of all "hexBinary" elements
+         */
+        byte[][] getHexBinaryArray();
+        
+        /**
+         * Gets ith "hexBinary" element
+         */
+        byte[] getHexBinaryArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "hexBinary" elements
+         */
+        org.apache.xmlbeans.XmlHexBinary[] xgetHexBinaryArray();
+        
+        /**
+         * Gets (as xml) ith "hexBinary" element
+         */
+        org.apache.xmlbeans.XmlHexBinary xgetHexBinaryArray(int i);
+        
+        /**
+         * Returns number of "hexBinary" element
+         */
+        int sizeOfHexBinaryArray();
+        
+        /**
+         * Sets array of all "hexBinary" element
+         */
+        void setHexBinaryArray(byte[][] hexBinaryArray);
+        
+        /**
+         * Sets ith "hexBinary" element
+         */
+        void setHexBinaryArray(int i, byte[] hexBinary);
+        
+        /**
+         * Sets (as xml) array of all "hexBinary" element
+         */
+        void xsetHexBinaryArray(org.apache.xmlbeans.XmlHexBinary[] hexBinaryArray);
+        
+        /**
+         * Sets (as xml) ith "hexBinary" element
+         */
+        void xsetHexBinaryArray(int i, org.apache.xmlbeans.XmlHexBinary hexBinary);
+        
+        /**
+         * Inserts the value as the ith "hexBinary" element
+         */
+        void insertHexBinary(int i, byte[] hexBinary);
+        
+        /**
+         * Appends the value as the last "hexBinary" element
+         */
+        void addHexBinary(byte[] hexBinary);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "hexBinary" element
+         */
+        org.apache.xmlbeans.XmlHexBinary insertNewHexBinary(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "hexBinary" element
+         */
+        org.apache.xmlbeans.XmlHexBinary addNewHexBinary();
+        
+        /**
+         * Removes the ith "hexBinary" element
+         */
+        void removeHexBinary(int i);
+        
+        /**
+         * Gets array of all "base64Binary" elements
+         */
+        byte[][] getBase64BinaryArray();
+        
+        /**
+         * Gets ith "base64Binary" element
+         */
+        byte[] getBase64BinaryArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "base64Binary" elements
+         */
+        org.apache.xmlbeans.XmlBase64Binary[] xgetBase64BinaryArray();
+        
+        /**
+         * Gets (as xml) ith "base64Binary" element
+         */
+        org.apache.xmlbeans.XmlBase64Binary xgetBase64BinaryArray(int i);
+        
+        /**
+         * Returns number of "base64Binary" element
+         */
+        int sizeOfBase64BinaryArray();
+        
+        /**
+         * Sets array of all "base64Binary" element
+         */
+        void setBase64BinaryArray(byte[][] base64BinaryArray);
+        
+        /**
+         * Sets ith "base64Binary" element
+         */
+        void setBase64BinaryArray(int i, byte[] base64Binary);
+        
+        /**
+         * Sets (as xml) array of all "base64Binary" element
+         */
+        void xsetBase64BinaryArray(org.apache.xmlbeans.XmlBase64Binary[] base64BinaryArray);
+        
+        /**
+         * Sets (as xml) ith "base64Binary" element
+         */
+        void xsetBase64BinaryArray(int i, org.apache.xmlbeans.XmlBase64Binary base64Binary);
+        
+        /**
+         * Inserts the value as the ith "base64Binary" element
+         */
+        void insertBase64Binary(int i, byte[] base64Binary);
+        
+        /**
+         * Appends the value as the last "base64Binary" element
+         */
+        void addBase64Binary(byte[] base64Binary);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "base64Binary" element
+         */
+        org.apache.xmlbeans.XmlBase64Binary insertNewBase64Binary(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "base64Binary" element
+         */
+        org.apache.xmlbeans.XmlBase64Binary addNewBase64Binary();
+        
+        /**
+         * Removes the ith "base64Binary" element
+         */
+        void removeBase64Binary(int i);
+        
+        /**
+         * Gets array of all "date" elements
+         */
+        java.util.Calendar[] getDateArray();
+        
+        /**
+         * Gets ith "date" element
+         */
+        java.util.Calendar getDateArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "date" elements
+         */
+        org.apache.xmlbeans.XmlDate[] xgetDateArray();
+        
+        /**
+         * Gets (as xml) ith "date" element
+         */
+        org.apache.xmlbeans.XmlDate xgetDateArray(int i);
+        
+        /**
+         * Returns number of "date" element
+         */
+        int sizeOfDateArray();
+        
+        /**
+         * Sets array of all "date" element
+         */
+        void setDateArray(java.util.Calendar[] dateArray);
+        
+        /**
+         * Sets ith "date" element
+         */
+        void setDateArray(int i, java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) array of all "date" element
+         */
+        void xsetDateArray(org.apache.xmlbeans.XmlDate[] dateArray);
+        
+        /**
+         * Sets (as xml) ith "date" element
+         */
+        void xsetDateArray(int i, org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Inserts the value as the ith "date" element
+         */
+        void insertDate(int i, java.util.Calendar date);
+        
+        /**
+         * Appends the value as the last "date" element
+         */
+        void addDate(java.util.Calendar date);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "date" element
+         */
+        org.apache.xmlbeans.XmlDate insertNewDate(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "date" element
+         */
+        org.apache.xmlbeans.XmlDate addNewDate();
+        
+        /**
+         * Removes the ith "date" element
+         */
+        void removeDate(int i);
+        
+        /**
+         * Gets array of all "dateTime" elements
+         */
+        java.util.Calendar[] getDateTimeArray();
+        
+        /**
+         * Gets ith "dateTime" element
+         */
+        java.util.Calendar getDateTimeArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "dateTime" elements
+         */
+        org.apache.xmlbeans.XmlDateTime[] xgetDateTimeArray();
+        
+        /**
+         * Gets (as xml) ith "dateTime" element
+         */
+        org.apache.xmlbeans.XmlDateTime xgetDateTimeArray(int i);
+        
+        /**
+         * Returns number of "dateTime" element
+         */
+        int sizeOfDateTimeArray();
+        
+        /**
+         * Sets array of all "dateTime" element
+         */
+        void setDateTimeArray(java.util.Calendar[] dateTimeArray);
+        
+        /**
+         * Sets ith "dateTime" element
+         */
+        void setDateTimeArray(int i, java.util.Calendar dateTime);
+        
+        /**
+         * Sets (as xml) array of all "dateTime" element
+         */
+        void xsetDateTimeArray(org.apache.xmlbeans.XmlDateTime[] dateTimeArray);
+        
+        /**
+         * Sets (as xml) ith "dateTime" element
+         */
+        void xsetDateTimeArray(int i, org.apache.xmlbeans.XmlDateTime dateTime);
+        
+        /**
+         * Inserts the value as the ith "dateTime" element
+         */
+        void insertDateTime(int i, java.util.Calendar dateTime);
+        
+        /**
+         * Appends the value as the last "dateTime" element
+         */
+        void addDateTime(java.util.Calendar dateTime);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "dateTime" element
+         */
+        org.apache.xmlbeans.XmlDateTime insertNewDateTime(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "dateTime" element
+         */
+        org.apache.xmlbeans.XmlDateTime addNewDateTime();
+        
+        /**
+         * Removes the ith "dateTime" element
+         */
+        void removeDateTime(int i);
+        
+        /**
+         * Gets array of all "gYearMonth" elements
+         */
+        java.util.Calendar[] getGYearMonthArray();
+        
+        /**
+         * Gets ith "gYearMonth" element
+         */
+        java.util.Calendar getGYearMonthArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "gYearMonth" elements
+         */
+        org.apache.xmlbeans.XmlGYearMonth[] xgetGYearMonthArray();
+        
+        /**
+         * Gets (as xml) ith "gYearMonth" element
+         */
+        org.apache.xmlbeans.XmlGYearMonth xgetGYearMonthArray(int i);
+        
+        /**
+         * Returns number of "gYearMonth" element
+         */
+        int sizeOfGYearMonthArray();
+        
+        /**
+         * Sets array of all "gYearMonth" element
+         */
+        void setGYearMonthArray(java.util.Calendar[] gYearMonthArray);
+        
+        /**
+         * Sets ith "gYearMonth" element
+         */
+        void setGYearMonthArray(int i, java.util.Calendar gYearMonth);
+        
+        /**
+         * Sets (as xml) array of all "gYearMonth" element
+         */
+        void xsetGYearMonthArray(org.apache.xmlbeans.XmlGYearMonth[] gYearMonthArray);
+        
+        /**
+         * Sets (as xml) ith "gYearMonth" element
+         */
+        void xsetGYearMonthArray(int i, org.apache.xmlbeans.XmlGYearMonth gYearMonth);
+        
+        /**
+         * Inserts the value as the ith "gYearMonth" element
+         */
+        void insertGYearMonth(int i, java.util.Calendar gYearMonth);
+        
+        /**
+         * Appends the value as the last "gYearMonth" element
+         */
+        void addGYearMonth(java.util.Calendar gYearMonth);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "gYearMonth" element
+         */
+        org.apache.xmlbeans.XmlGYearMonth insertNewGYearMonth(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "gYearMonth" element
+         */
+        org.apache.xmlbeans.XmlGYearMonth addNewGYearMonth();
+        
+        /**
+         * Removes the ith "gYearMonth" element
+         */
+        void removeGYearMonth(int i);
+        
+        /**
+         * Gets array of all "duration" elements
+         */
+        org.apache.xmlbeans.GDuration[] getDurationArray();
+        
+        /**
+         * Gets ith "duration" element
+         */
+        org.apache.xmlbeans.GDuration getDurationArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "duration" elements
+         */
+        org.apache.xmlbeans.XmlDuration[] xgetDurationArray();
+        
+        /**
+         * Gets (as xml) ith "duration" element
+         */
+        org.apache.xmlbeans.XmlDuration xgetDurationArray(int i);
+        
+        /**
+         * Returns number of "duration" element
+         */
+        int sizeOfDurationArray();
+        
+        /**
+         * Sets array of all "duration" element
+         */
+        void setDurationArray(org.apache.xmlbeans.GDuration[] durationArray);
+        
+        /**
+         * Sets ith "duration" element
+         */
+        void setDurationArray(int i, org.apache.xmlbeans.GDuration duration);
+        
+        /**
+         * Sets (as xml) array of all "duration" element
+         */
+        void xsetDurationArray(org.apache.xmlbeans.XmlDuration[] durationArray);
+        
+        /**
+         * Sets (as xml) ith "duration" element
+         */
+        void xsetDurationArray(int i, org.apache.xmlbeans.XmlDuration duration);
+        
+        /**
+         * Inserts the value as the ith "duration" element
+         */
+        void insertDuration(int i, org.apache.xmlbeans.GDuration duration);
+        
+        /**
+         * Appends the value as the last "duration" element
+         */
+        void addDuration(org.apache.xmlbeans.GDuration duration);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "duration" element
+         */
+        org.apache.xmlbeans.XmlDuration insertNewDuration(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "duration" element
+         */
+        org.apache.xmlbeans.XmlDuration addNewDuration();
+        
+        /**
+         * Removes the ith "duration" element
+         */
+        void removeDuration(int i);
+        
+        /**
+         * Gets array of all "QName" elements
+         */
+        javax.xml.namespace.QName[] getQNameArray();
+        
+        /**
+         * Gets ith "QName" element
+         */
+        javax.xml.namespace.QName getQNameArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "QName" elements
+         */
+        org.apache.xmlbeans.XmlQName[] xgetQNameArray();
+        
+        /**
+         * Gets (as xml) ith "QName" element
+         */
+        org.apache.xmlbeans.XmlQName xgetQNameArray(int i);
+        
+        /**
+         * Returns number of "QName" element
+         */
+        int sizeOfQNameArray();
+        
+        /**
+         * Sets array of all "QName" element
+         */
+        void setQNameArray(javax.xml.namespace.QName[] qNameArray);
+        
+        /**
+         * Sets ith "QName" element
+         */
+        void setQNameArray(int i, javax.xml.namespace.QName qName);
+        
+        /**
+         * Sets (as xml) array of all "QName" element
+         */
+        void xsetQNameArray(org.apache.xmlbeans.XmlQName[] qNameArray);
+        
+        /**
+         * Sets (as xml) ith "QName" element
+         */
+        void xsetQNameArray(int i, org.apache.xmlbeans.XmlQName qName);
+        
+        /**
+         * Inserts the value as the ith "QName" element
+         */
+        void insertQName(int i, javax.xml.namespace.QName qName);
+        
+        /**
+         * Appends the value as the last "QName" element
+         */
+        void addQName(javax.xml.namespace.QName qName);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "QName" element
+         */
+        org.apache.xmlbeans.XmlQName insertNewQName(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "QName" element
+         */
+        org.apache.xmlbeans.XmlQName addNewQName();
+        
+        /**
+         * Removes the ith "QName" element
+         */
+        void removeQName(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.test.numerals.DocDocument.Doc newInstance() {
+              return (org.openuri.test.numerals.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.test.numerals.DocDocument.Doc newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.test.numerals.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.test.numerals.DocDocument newInstance() {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.test.numerals.DocDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.test.numerals.DocDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.test.numerals.DocDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.numerals.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.numerals.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.numerals.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
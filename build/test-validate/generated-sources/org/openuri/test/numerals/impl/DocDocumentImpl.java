@@ -0,0 +1,3846 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://openuri.org/test/Numerals
+ * Java type: org.openuri.test.numerals.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.numerals.impl;
+/**
+ * A document containing one doc(@http://openuri.org/test/Numerals) element.
+ *
+ * This is a complex type.
+ */
+public class DocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.numerals.DocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOC$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "doc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 99640:
+                if (name.equals(DOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "doc" element
+     */
+    public org.openuri.test.numerals.DocDocument.Doc getDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.numerals.DocDocument.Doc target = null;
+            target = (org.openuri.test.numerals.DocDocument.Doc)get_store().find_element_user(DOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "doc" element
+     */
+    public void setDoc(org.openuri.test.numerals.DocDocument.Doc doc)
+    {
+        generatedSetterHelperImpl(doc, DOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "doc" element
+     */
+    public org.openuri.test.numerals.DocDocument.Doc addNewDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.numerals.DocDocument.Doc target = null;
+            target = (org.openuri.test.numerals.DocDocument.Doc)get_store().add_element_user(DOC$0);
+            return target;
+        }
+    }
+    /**
+     * An XML doc(@http://openuri.org/test/Numerals).
+     *
+     * This is a complex type.
+     */
+    public static class DocImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.numerals.DocDocument.Doc
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DocImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName INT$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "int");
+        private static final javax.xml.namespace.QName SHORT$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "short");
+        private static final javax.xml.namespace.QName BYTE$4 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "byte");
+        private static final javax.xml.namespace.QName DOUBLE$6 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "double");
+        private static final javax.xml.namespace.QName FLOAT$8 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "float");
+        private static final javax.xml.namespace.QName BOOLEAN$10 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "boolean");
+        private static final javax.xml.namespace.QName STRING$12 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "string");
+        private static final javax.xml.namespace.QName DECIMAL$14 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "decimal");
+        private static final javax.xml.namespace.QName INTEGER$16 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "integer");
+        private static final javax.xml.namespace.QName LONG$18 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "long");
+        private static final javax.xml.namespace.QName HEXBINARY$20 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "hexBinary");
+        private static final javax.xml.namespace.QName BASE64BINARY$22 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "base64Binary");
+        private static final javax.xml.namespace.QName DATE$24 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "date");
+        private static final javax.xml.namespace.QName DATETIME$26 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "dateTime");
+        private static final javax.xml.namespace.QName GYEARMONTH$28 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "gYearMonth");
+        private static final javax.xml.namespace.QName DURATION$30 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "duration");
+        private static final javax.xml.namespace.QName QNAME$32 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "QName");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(17);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1992012396:
+                    if (name.equals(DURATION$30))
+                        return ORDINAL$BASE + 15;
+                    break;
+                case -1553732708:
+                    if (name.equals(GYEARMONTH$28))
+                        return ORDINAL$BASE + 14;
+                    break;
+                case -1325958191:
+                    if (name.equals(DOUBLE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case -1216012752:
+                    if (name.equals(BASE64BINARY$22))
+                        return ORDINAL$BASE + 11;
+                    break;
+                case -891985903:
+                    if (name.equals(STRING$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+                case 104431:
+                    if (name.equals(INT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 3039496:
+                    if (name.equals(BYTE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 3076014:
+                    if (name.equals(DATE$24))
+                        return ORDINAL$BASE + 12;
+                    break;
+                case 3327612:
+                    if (name.equals(LONG$18))
+                        return ORDINAL$BASE + 9;
+                    break;
+                case 64711720:
+                    if (name.equals(BOOLEAN$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 77225596:
+                    if (name.equals(QNAME$32))
+                        return ORDINAL$BASE + 16;
+                    break;
+                case 97526364:
+                    if (name.equals(FLOAT$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 109413500:
+                    if (name.equals(SHORT$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 1542263633:
+                    if (name.equals(DECIMAL$14))
+                        return ORDINAL$BASE + 7;
+                    break;
+                case 1792749467:
+                    if (name.equals(DATETIME$26))
+                        return ORDINAL$BASE + 13;
+                    break;
+                case 1958052158:
+                    if (name.equals(INTEGER$16))
+                        return ORDINAL$BASE + 8;
+                    break;
+                case 2049608444:
+                    if (name.equals(HEXBINARY$20))
+                        return ORDINAL$BASE + 10;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        public int[] getIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INT$0, targetList);
+                int[] result = new int[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "int" element
+         */
+        public int getIntArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(INT$0, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "int" elements
+         */
+        public org.apache.xmlbeans.XmlInt[] xgetIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INT$0, targetList);
+                org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "int" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetIntArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "int" element
+         */
+        public int sizeOfIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(INT$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "int" element
+         */
+        public void setIntArray(int[] xintArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xintArray, INT$0);
+            }
+        }
+        
+        /**
+         * Sets ith "int" element
+         */
+        public void setIntArray(int i, int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "int" element
+         */
+        public void xsetIntArray(org.apache.xmlbeans.XmlInt[]xintArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xintArray, INT$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "int" element
+         */
+        public void xsetIntArray(int i, org.apache.xmlbeans.XmlInt xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xint);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "int" element
+         */
+        public void insertInt(int i, int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INT$0, i);
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "int" element
+         */
+        public void addInt(int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INT$0);
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "int" element
+         */
+        public org.apache.xmlbeans.XmlInt insertNewInt(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(INT$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "int" element
+         */
+        public org.apache.xmlbeans.XmlInt addNewInt()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(INT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "int" element
+         */
+        public void removeInt(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(INT$0, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "short" elements
+         */
+        public short[] getShortArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(SHORT$2, targetList);
+                short[] result = new short[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getShortValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "short" element
+         */
+        public short getShortArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(SHORT$2, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexShort(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHORT$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getShortValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "short" elements
+         */
+        public org.apache.xmlbeans.XmlShort[] xgetShortArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(SHORT$2, targetList);
+                org.apache.xmlbeans.XmlShort[] result = new org.apache.xmlbeans.XmlShort[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "short" element
+         */
+        public org.apache.xmlbeans.XmlShort xgetShortArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlShort target = null;
+                target = (org.apache.xmlbeans.XmlShort)get_store().find_element_user(SHORT$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "short" element
+         */
+        public int sizeOfShortArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHORT$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "short" element
+         */
+        public void setShortArray(short[] xshortArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xshortArray, SHORT$2);
+            }
+        }
+        
+        /**
+         * Sets ith "short" element
+         */
+        public void setShortArray(int i, short xshort)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHORT$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setShortValue(xshort);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "short" element
+         */
+        public void xsetShortArray(org.apache.xmlbeans.XmlShort[]xshortArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xshortArray, SHORT$2);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "short" element
+         */
+        public void xsetShortArray(int i, org.apache.xmlbeans.XmlShort xshort)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlShort target = null;
+                target = (org.apache.xmlbeans.XmlShort)get_store().find_element_user(SHORT$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xshort);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "short" element
+         */
+        public void insertShort(int i, short xshort)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(SHORT$2, i);
+                target.setShortValue(xshort);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "short" element
+         */
+        public void addShort(short xshort)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHORT$2);
+                target.setShortValue(xshort);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "short" element
+         */
+        public org.apache.xmlbeans.XmlShort insertNewShort(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlShort target = null;
+                target = (org.apache.xmlbeans.XmlShort)get_store().insert_element_user(SHORT$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "short" element
+         */
+        public org.apache.xmlbeans.XmlShort addNewShort()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlShort target = null;
+                target = (org.apache.xmlbeans.XmlShort)get_store().add_element_user(SHORT$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "short" element
+         */
+        public void removeShort(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHORT$2, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "byte" elements
+         */
+        public byte[] getByteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BYTE$4, targetList);
+                byte[] result = new byte[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getByteValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "byte" element
+         */
+        public byte getByteArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(BYTE$4, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BYTE$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getByteValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "byte" elements
+         */
+        public org.apache.xmlbeans.XmlByte[] xgetByteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BYTE$4, targetList);
+                org.apache.xmlbeans.XmlByte[] result = new org.apache.xmlbeans.XmlByte[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "byte" element
+         */
+        public org.apache.xmlbeans.XmlByte xgetByteArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlByte target = null;
+                target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(BYTE$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "byte" element
+         */
+        public int sizeOfByteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(BYTE$4);
+            }
+        }
+        
+        /**
+         * Sets array of all "byte" element
+         */
+        public void setByteArray(byte[] xbyteArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xbyteArray, BYTE$4);
+            }
+        }
+        
+        /**
+         * Sets ith "byte" element
+         */
+        public void setByteArray(int i, byte xbyte)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BYTE$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setByteValue(xbyte);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "byte" element
+         */
+        public void xsetByteArray(org.apache.xmlbeans.XmlByte[]xbyteArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xbyteArray, BYTE$4);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "byte" element
+         */
+        public void xsetByteArray(int i, org.apache.xmlbeans.XmlByte xbyte)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlByte target = null;
+                target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(BYTE$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xbyte);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "byte" element
+         */
+        public void insertByte(int i, byte xbyte)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(BYTE$4, i);
+                target.setByteValue(xbyte);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "byte" element
+         */
+        public void addByte(byte xbyte)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BYTE$4);
+                target.setByteValue(xbyte);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "byte" element
+         */
+        public org.apache.xmlbeans.XmlByte insertNewByte(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlByte target = null;
+                target = (org.apache.xmlbeans.XmlByte)get_store().insert_element_user(BYTE$4, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "byte" element
+         */
+        public org.apache.xmlbeans.XmlByte addNewByte()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlByte target = null;
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_element_user(BYTE$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "byte" element
+         */
+        public void removeByte(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(BYTE$4, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "double" elements
+         */
+        public double[] getDoubleArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DOUBLE$6, targetList);
+                double[] result = new double[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getDoubleValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "double" element
+         */
+        public double getDoubleArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(DOUBLE$6, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexDouble(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DOUBLE$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getDoubleValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "double" elements
+         */
+        public org.apache.xmlbeans.XmlDouble[] xgetDoubleArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DOUBLE$6, targetList);
+                org.apache.xmlbeans.XmlDouble[] result = new org.apache.xmlbeans.XmlDouble[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "double" element
+         */
+        public org.apache.xmlbeans.XmlDouble xgetDoubleArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(DOUBLE$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "double" element
+         */
+        public int sizeOfDoubleArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DOUBLE$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "double" element
+         */
+        public void setDoubleArray(double[] xdoubleArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xdoubleArray, DOUBLE$6);
+            }
+        }
+        
+        /**
+         * Sets ith "double" element
+         */
+        public void setDoubleArray(int i, double xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DOUBLE$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setDoubleValue(xdouble);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "double" element
+         */
+        public void xsetDoubleArray(org.apache.xmlbeans.XmlDouble[]xdoubleArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xdoubleArray, DOUBLE$6);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "double" element
+         */
+        public void xsetDoubleArray(int i, org.apache.xmlbeans.XmlDouble xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().find_element_user(DOUBLE$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xdouble);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "double" element
+         */
+        public void insertDouble(int i, double xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DOUBLE$6, i);
+                target.setDoubleValue(xdouble);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "double" element
+         */
+        public void addDouble(double xdouble)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DOUBLE$6);
+                target.setDoubleValue(xdouble);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "double" element
+         */
+        public org.apache.xmlbeans.XmlDouble insertNewDouble(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().insert_element_user(DOUBLE$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "double" element
+         */
+        public org.apache.xmlbeans.XmlDouble addNewDouble()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDouble target = null;
+                target = (org.apache.xmlbeans.XmlDouble)get_store().add_element_user(DOUBLE$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "double" element
+         */
+        public void removeDouble(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DOUBLE$6, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "float" elements
+         */
+        public float[] getFloatArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(FLOAT$8, targetList);
+                float[] result = new float[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getFloatValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "float" element
+         */
+        public float getFloatArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(FLOAT$8, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLOAT$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getFloatValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "float" elements
+         */
+        public org.apache.xmlbeans.XmlFloat[] xgetFloatArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(FLOAT$8, targetList);
+                org.apache.xmlbeans.XmlFloat[] result = new org.apache.xmlbeans.XmlFloat[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "float" element
+         */
+        public org.apache.xmlbeans.XmlFloat xgetFloatArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(FLOAT$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "float" element
+         */
+        public int sizeOfFloatArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FLOAT$8);
+            }
+        }
+        
+        /**
+         * Sets array of all "float" element
+         */
+        public void setFloatArray(float[] xfloatArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xfloatArray, FLOAT$8);
+            }
+        }
+        
+        /**
+         * Sets ith "float" element
+         */
+        public void setFloatArray(int i, float xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FLOAT$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setFloatValue(xfloat);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "float" element
+         */
+        public void xsetFloatArray(org.apache.xmlbeans.XmlFloat[]xfloatArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xfloatArray, FLOAT$8);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "float" element
+         */
+        public void xsetFloatArray(int i, org.apache.xmlbeans.XmlFloat xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().find_element_user(FLOAT$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xfloat);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "float" element
+         */
+        public void insertFloat(int i, float xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(FLOAT$8, i);
+                target.setFloatValue(xfloat);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "float" element
+         */
+        public void addFloat(float xfloat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FLOAT$8);
+                target.setFloatValue(xfloat);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "float" element
+         */
+        public org.apache.xmlbeans.XmlFloat insertNewFloat(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().insert_element_user(FLOAT$8, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "float" element
+         */
+        public org.apache.xmlbeans.XmlFloat addNewFloat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlFloat target = null;
+                target = (org.apache.xmlbeans.XmlFloat)get_store().add_element_user(FLOAT$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "float" element
+         */
+        public void removeFloat(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FLOAT$8, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "boolean" elements
+         */
+        public boolean[] getBooleanArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BOOLEAN$10, targetList);
+                boolean[] result = new boolean[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getBooleanValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "boolean" element
+         */
+        public boolean getBooleanArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(BOOLEAN$10, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BOOLEAN$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getBooleanValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "boolean" elements
+         */
+        public org.apache.xmlbeans.XmlBoolean[] xgetBooleanArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BOOLEAN$10, targetList);
+                org.apache.xmlbeans.XmlBoolean[] result = new org.apache.xmlbeans.XmlBoolean[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "boolean" element
+         */
+        public org.apache.xmlbeans.XmlBoolean xgetBooleanArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBoolean target = null;
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().find_element_user(BOOLEAN$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "boolean" element
+         */
+        public int sizeOfBooleanArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(BOOLEAN$10);
+            }
+        }
+        
+        /**
+         * Sets array of all "boolean" element
+         */
+        public void setBooleanArray(boolean[] xbooleanArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xbooleanArray, BOOLEAN$10);
+            }
+        }
+        
+        /**
+         * Sets ith "boolean" element
+         */
+        public void setBooleanArray(int i, boolean xboolean)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BOOLEAN$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setBooleanValue(xboolean);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "boolean" element
+         */
+        public void xsetBooleanArray(org.apache.xmlbeans.XmlBoolean[]xbooleanArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xbooleanArray, BOOLEAN$10);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "boolean" element
+         */
+        public void xsetBooleanArray(int i, org.apache.xmlbeans.XmlBoolean xboolean)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBoolean target = null;
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().find_element_user(BOOLEAN$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xboolean);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "boolean" element
+         */
+        public void insertBoolean(int i, boolean xboolean)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(BOOLEAN$10, i);
+                target.setBooleanValue(xboolean);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "boolean" element
+         */
+        public void addBoolean(boolean xboolean)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BOOLEAN$10);
+                target.setBooleanValue(xboolean);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "boolean" element
+         */
+        public org.apache.xmlbeans.XmlBoolean insertNewBoolean(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBoolean target = null;
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().insert_element_user(BOOLEAN$10, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "boolean" element
+         */
+        public org.apache.xmlbeans.XmlBoolean addNewBoolean()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBoolean target = null;
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().add_element_user(BOOLEAN$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "boolean" element
+         */
+        public void removeBoolean(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(BOOLEAN$10, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        public java.lang.String[] getStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(STRING$12, targetList);
+                java.lang.String[] result = new java.lang.String[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "string" element
+         */
+        public java.lang.String getStringArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$12, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "string" elements
+         */
+        public org.apache.xmlbeans.XmlString[] xgetStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(STRING$12, targetList);
+                org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "string" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStringArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$12, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "string" element
+         */
+        public int sizeOfStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STRING$12);
+            }
+        }
+        
+        /**
+         * Sets array of all "string" element
+         */
+        public void setStringArray(java.lang.String[] stringArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(stringArray, STRING$12);
+            }
+        }
+        
+        /**
+         * Sets ith "string" element
+         */
+        public void setStringArray(int i, java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$12, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "string" element
+         */
+        public void xsetStringArray(org.apache.xmlbeans.XmlString[]stringArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(stringArray, STRING$12);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "string" element
+         */
+        public void xsetStringArray(int i, org.apache.xmlbeans.XmlString string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$12, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(string);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "string" element
+         */
+        public void insertString(int i, java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(STRING$12, i);
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "string" element
+         */
+        public void addString(java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STRING$12);
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "string" element
+         */
+        public org.apache.xmlbeans.XmlString insertNewString(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(STRING$12, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "string" element
+         */
+        public org.apache.xmlbeans.XmlString addNewString()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STRING$12);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "string" element
+         */
+        public void removeString(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STRING$12, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "decimal" elements
+         */
+        public java.math.BigDecimal[] getDecimalArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DECIMAL$14, targetList);
+                java.math.BigDecimal[] result = new java.math.BigDecimal[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getBigDecimalValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "decimal" element
+         */
+        public java.math.BigDecimal getDecimalArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DECIMAL$14, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getBigDecimalValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "decimal" elements
+         */
+        public org.apache.xmlbeans.XmlDecimal[] xgetDecimalArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DECIMAL$14, targetList);
+                org.apache.xmlbeans.XmlDecimal[] result = new org.apache.xmlbeans.XmlDecimal[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "decimal" element
+         */
+        public org.apache.xmlbeans.XmlDecimal xgetDecimalArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(DECIMAL$14, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "decimal" element
+         */
+        public int sizeOfDecimalArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DECIMAL$14);
+            }
+        }
+        
+        /**
+         * Sets array of all "decimal" element
+         */
+        public void setDecimalArray(java.math.BigDecimal[] decimalArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(decimalArray, DECIMAL$14);
+            }
+        }
+        
+        /**
+         * Sets ith "decimal" element
+         */
+        public void setDecimalArray(int i, java.math.BigDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DECIMAL$14, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setBigDecimalValue(decimal);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "decimal" element
+         */
+        public void xsetDecimalArray(org.apache.xmlbeans.XmlDecimal[]decimalArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(decimalArray, DECIMAL$14);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "decimal" element
+         */
+        public void xsetDecimalArray(int i, org.apache.xmlbeans.XmlDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(DECIMAL$14, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(decimal);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "decimal" element
+         */
+        public void insertDecimal(int i, java.math.BigDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DECIMAL$14, i);
+                target.setBigDecimalValue(decimal);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "decimal" element
+         */
+        public void addDecimal(java.math.BigDecimal decimal)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DECIMAL$14);
+                target.setBigDecimalValue(decimal);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "decimal" element
+         */
+        public org.apache.xmlbeans.XmlDecimal insertNewDecimal(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().insert_element_user(DECIMAL$14, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "decimal" element
+         */
+        public org.apache.xmlbeans.XmlDecimal addNewDecimal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(DECIMAL$14);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "decimal" element
+         */
+        public void removeDecimal(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DECIMAL$14, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "integer" elements
+         */
+        public java.math.BigInteger[] getIntegerArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INTEGER$16, targetList);
+                java.math.BigInteger[] result = new java.math.BigInteger[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getBigIntegerValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "integer" element
+         */
+        public java.math.BigInteger getIntegerArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTEGER$16, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getBigIntegerValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "integer" elements
+         */
+        public org.apache.xmlbeans.XmlInteger[] xgetIntegerArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INTEGER$16, targetList);
+                org.apache.xmlbeans.XmlInteger[] result = new org.apache.xmlbeans.XmlInteger[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "integer" element
+         */
+        public org.apache.xmlbeans.XmlInteger xgetIntegerArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(INTEGER$16, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "integer" element
+         */
+        public int sizeOfIntegerArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(INTEGER$16);
+            }
+        }
+        
+        /**
+         * Sets array of all "integer" element
+         */
+        public void setIntegerArray(java.math.BigInteger[] integerArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(integerArray, INTEGER$16);
+            }
+        }
+        
+        /**
+         * Sets ith "integer" element
+         */
+        public void setIntegerArray(int i, java.math.BigInteger integer)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTEGER$16, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setBigIntegerValue(integer);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "integer" element
+         */
+        public void xsetIntegerArray(org.apache.xmlbeans.XmlInteger[]integerArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(integerArray, INTEGER$16);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "integer" element
+         */
+        public void xsetIntegerArray(int i, org.apache.xmlbeans.XmlInteger integer)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(INTEGER$16, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(integer);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "integer" element
+         */
+        public void insertInteger(int i, java.math.BigInteger integer)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INTEGER$16, i);
+                target.setBigIntegerValue(integer);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "integer" element
+         */
+        public void addInteger(java.math.BigInteger integer)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INTEGER$16);
+                target.setBigIntegerValue(integer);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "integer" element
+         */
+        public org.apache.xmlbeans.XmlInteger insertNewInteger(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().insert_element_user(INTEGER$16, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "integer" element
+         */
+        public org.apache.xmlbeans.XmlInteger addNewInteger()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInteger target = null;
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(INTEGER$16);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "integer" element
+         */
+        public void removeInteger(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(INTEGER$16, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "long" elements
+         */
+        public long[] getLongArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(LONG$18, targetList);
+                long[] result = new long[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getLongValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "long" element
+         */
+        public long getLongArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(LONG$18, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LONG$18, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "long" elements
+         */
+        public org.apache.xmlbeans.XmlLong[] xgetLongArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(LONG$18, targetList);
+                org.apache.xmlbeans.XmlLong[] result = new org.apache.xmlbeans.XmlLong[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "long" element
+         */
+        public org.apache.xmlbeans.XmlLong xgetLongArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(LONG$18, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "long" element
+         */
+        public int sizeOfLongArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LONG$18);
+            }
+        }
+        
+        /**
+         * Sets array of all "long" element
+         */
+        public void setLongArray(long[] xlongArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xlongArray, LONG$18);
+            }
+        }
+        
+        /**
+         * Sets ith "long" element
+         */
+        public void setLongArray(int i, long xlong)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LONG$18, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setLongValue(xlong);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "long" element
+         */
+        public void xsetLongArray(org.apache.xmlbeans.XmlLong[]xlongArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xlongArray, LONG$18);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "long" element
+         */
+        public void xsetLongArray(int i, org.apache.xmlbeans.XmlLong xlong)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_element_user(LONG$18, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xlong);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "long" element
+         */
+        public void insertLong(int i, long xlong)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(LONG$18, i);
+                target.setLongValue(xlong);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "long" element
+         */
+        public void addLong(long xlong)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LONG$18);
+                target.setLongValue(xlong);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "long" element
+         */
+        public org.apache.xmlbeans.XmlLong insertNewLong(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().insert_element_user(LONG$18, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "long" element
+         */
+        public org.apache.xmlbeans.XmlLong addNewLong()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().add_element_user(LONG$18);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "long" element
+         */
+        public void removeLong(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LONG$18, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "hexBinary" elements
+         */
+        public byte[][] getHexBinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(HEXBINARY$20, targetList);
+                byte[][] result = new byte[targetList.size()][];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getByteArrayValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "hexBinary" element
+         */
+        public byte[] getHexBinaryArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HEXBINARY$20, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getByteArrayValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "hexBinary" elements
+         */
+        public org.apache.xmlbeans.XmlHexBinary[] xgetHexBinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(HEXBINARY$20, targetList);
+                org.apache.xmlbeans.XmlHexBinary[] result = new org.apache.xmlbeans.XmlHexBinary[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "hexBinary" element
+         */
+        public org.apache.xmlbeans.XmlHexBinary xgetHexBinaryArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlHexBinary target = null;
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEXBINARY$20, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "hexBinary" element
+         */
+        public int sizeOfHexBinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(HEXBINARY$20);
+            }
+        }
+        
+        /**
+         * Sets array of all "hexBinary" element
+         */
+        public void setHexBinaryArray(byte[][] hexBinaryArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(hexBinaryArray, HEXBINARY$20);
+            }
+        }
+        
+        /**
+         * Sets ith "hexBinary" element
+         */
+        public void setHexBinaryArray(int i, byte[] hexBinary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HEXBINARY$20, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setByteArrayValue(hexBinary);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "hexBinary" element
+         */
+        public void xsetHexBinaryArray(org.apache.xmlbeans.XmlHexBinary[]hexBinaryArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(hexBinaryArray, HEXBINARY$20);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "hexBinary" element
+         */
+        public void xsetHexBinaryArray(int i, org.apache.xmlbeans.XmlHexBinary hexBinary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlHexBinary target = null;
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEXBINARY$20, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(hexBinary);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "hexBinary" element
+         */
+        public void insertHexBinary(int i, byte[] hexBinary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(HEXBINARY$20, i);
+                target.setByteArrayValue(hexBinary);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "hexBinary" element
+         */
+        public void addHexBinary(byte[] hexBinary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HEXBINARY$20);
+                target.setByteArrayValue(hexBinary);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "hexBinary" element
+         */
+        public org.apache.xmlbeans.XmlHexBinary insertNewHexBinary(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlHexBinary target = null;
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().insert_element_user(HEXBINARY$20, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "hexBinary" element
+         */
+        public org.apache.xmlbeans.XmlHexBinary addNewHexBinary()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlHexBinary target = null;
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().add_element_user(HEXBINARY$20);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "hexBinary" element
+         */
+        public void removeHexBinary(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(HEXBINARY$20, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "base64Binary" elements
+         */
+        public byte[][] getBase64BinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BASE64BINARY$22, targetList);
+                byte[][] result = new byte[targetList.size()][];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getByteArrayValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "base64Binary" element
+         */
+        public byte[] getBase64BinaryArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BASE64BINARY$22, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getByteArrayValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "base64Binary" elements
+         */
+        public org.apache.xmlbeans.XmlBase64Binary[] xgetBase64BinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(BASE64BINARY$22, targetList);
+                org.apache.xmlbeans.XmlBase64Binary[] result = new org.apache.xmlbeans.XmlBase64Binary[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "base64Binary" element
+         */
+        public org.apache.xmlbeans.XmlBase64Binary xgetBase64BinaryArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBase64Binary target = null;
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64BINARY$22, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "base64Binary" element
+         */
+        public int sizeOfBase64BinaryArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(BASE64BINARY$22);
+            }
+        }
+        
+        /**
+         * Sets array of all "base64Binary" element
+         */
+        public void setBase64BinaryArray(byte[][] base64BinaryArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(base64BinaryArray, BASE64BINARY$22);
+            }
+        }
+        
+        /**
+         * Sets ith "base64Binary" element
+         */
+        public void setBase64BinaryArray(int i, byte[] base64Binary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BASE64BINARY$22, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setByteArrayValue(base64Binary);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "base64Binary" element
+         */
+        public void xsetBase64BinaryArray(org.apache.xmlbeans.XmlBase64Binary[]base64BinaryArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(base64BinaryArray, BASE64BINARY$22);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "base64Binary" element
+         */
+        public void xsetBase64BinaryArray(int i, org.apache.xmlbeans.XmlBase64Binary base64Binary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBase64Binary target = null;
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64BINARY$22, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(base64Binary);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "base64Binary" element
+         */
+        public void insertBase64Binary(int i, byte[] base64Binary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(BASE64BINARY$22, i);
+                target.setByteArrayValue(base64Binary);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "base64Binary" element
+         */
+        public void addBase64Binary(byte[] base64Binary)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BASE64BINARY$22);
+                target.setByteArrayValue(base64Binary);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "base64Binary" element
+         */
+        public org.apache.xmlbeans.XmlBase64Binary insertNewBase64Binary(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBase64Binary target = null;
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().insert_element_user(BASE64BINARY$22, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "base64Binary" element
+         */
+        public org.apache.xmlbeans.XmlBase64Binary addNewBase64Binary()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlBase64Binary target = null;
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().add_element_user(BASE64BINARY$22);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "base64Binary" element
+         */
+        public void removeBase64Binary(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(BASE64BINARY$22, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "date" elements
+         */
+        public java.util.Calendar[] getDateArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATE$24, targetList);
+                java.util.Calendar[] result = new java.util.Calendar[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getCalendarValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "date" element
+         */
+        public java.util.Calendar getDateArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$24, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "date" elements
+         */
+        public org.apache.xmlbeans.XmlDate[] xgetDateArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATE$24, targetList);
+                org.apache.xmlbeans.XmlDate[] result = new org.apache.xmlbeans.XmlDate[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "date" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetDateArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$24, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "date" element
+         */
+        public int sizeOfDateArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DATE$24);
+            }
+        }
+        
+        /**
+         * Sets array of all "date" element
+         */
+        public void setDateArray(java.util.Calendar[] dateArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateArray, DATE$24);
+            }
+        }
+        
+        /**
+         * Sets ith "date" element
+         */
+        public void setDateArray(int i, java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$24, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "date" element
+         */
+        public void xsetDateArray(org.apache.xmlbeans.XmlDate[]dateArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateArray, DATE$24);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "date" element
+         */
+        public void xsetDateArray(int i, org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$24, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "date" element
+         */
+        public void insertDate(int i, java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DATE$24, i);
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "date" element
+         */
+        public void addDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$24);
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "date" element
+         */
+        public org.apache.xmlbeans.XmlDate insertNewDate(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().insert_element_user(DATE$24, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "date" element
+         */
+        public org.apache.xmlbeans.XmlDate addNewDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$24);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "date" element
+         */
+        public void removeDate(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DATE$24, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "dateTime" elements
+         */
+        public java.util.Calendar[] getDateTimeArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATETIME$26, targetList);
+                java.util.Calendar[] result = new java.util.Calendar[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getCalendarValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "dateTime" element
+         */
+        public java.util.Calendar getDateTimeArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIME$26, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "dateTime" elements
+         */
+        public org.apache.xmlbeans.XmlDateTime[] xgetDateTimeArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DATETIME$26, targetList);
+                org.apache.xmlbeans.XmlDateTime[] result = new org.apache.xmlbeans.XmlDateTime[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "dateTime" element
+         */
+        public org.apache.xmlbeans.XmlDateTime xgetDateTimeArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATETIME$26, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "dateTime" element
+         */
+        public int sizeOfDateTimeArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DATETIME$26);
+            }
+        }
+        
+        /**
+         * Sets array of all "dateTime" element
+         */
+        public void setDateTimeArray(java.util.Calendar[] dateTimeArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateTimeArray, DATETIME$26);
+            }
+        }
+        
+        /**
+         * Sets ith "dateTime" element
+         */
+        public void setDateTimeArray(int i, java.util.Calendar dateTime)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATETIME$26, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setCalendarValue(dateTime);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "dateTime" element
+         */
+        public void xsetDateTimeArray(org.apache.xmlbeans.XmlDateTime[]dateTimeArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(dateTimeArray, DATETIME$26);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "dateTime" element
+         */
+        public void xsetDateTimeArray(int i, org.apache.xmlbeans.XmlDateTime dateTime)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATETIME$26, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(dateTime);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "dateTime" element
+         */
+        public void insertDateTime(int i, java.util.Calendar dateTime)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DATETIME$26, i);
+                target.setCalendarValue(dateTime);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "dateTime" element
+         */
+        public void addDateTime(java.util.Calendar dateTime)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATETIME$26);
+                target.setCalendarValue(dateTime);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "dateTime" element
+         */
+        public org.apache.xmlbeans.XmlDateTime insertNewDateTime(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().insert_element_user(DATETIME$26, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "dateTime" element
+         */
+        public org.apache.xmlbeans.XmlDateTime addNewDateTime()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(DATETIME$26);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "dateTime" element
+         */
+        public void removeDateTime(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DATETIME$26, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "gYearMonth" elements
+         */
+        public java.util.Calendar[] getGYearMonthArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(GYEARMONTH$28, targetList);
+                java.util.Calendar[] result = new java.util.Calendar[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getCalendarValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "gYearMonth" element
+         */
+        public java.util.Calendar getGYearMonthArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARMONTH$28, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "gYearMonth" elements
+         */
+        public org.apache.xmlbeans.XmlGYearMonth[] xgetGYearMonthArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(GYEARMONTH$28, targetList);
+                org.apache.xmlbeans.XmlGYearMonth[] result = new org.apache.xmlbeans.XmlGYearMonth[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "gYearMonth" element
+         */
+        public org.apache.xmlbeans.XmlGYearMonth xgetGYearMonthArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlGYearMonth target = null;
+                target = (org.apache.xmlbeans.XmlGYearMonth)get_store().find_element_user(GYEARMONTH$28, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "gYearMonth" element
+         */
+        public int sizeOfGYearMonthArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(GYEARMONTH$28);
+            }
+        }
+        
+        /**
+         * Sets array of all "gYearMonth" element
+         */
+        public void setGYearMonthArray(java.util.Calendar[] gYearMonthArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(gYearMonthArray, GYEARMONTH$28);
+            }
+        }
+        
+        /**
+         * Sets ith "gYearMonth" element
+         */
+        public void setGYearMonthArray(int i, java.util.Calendar gYearMonth)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(GYEARMONTH$28, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setCalendarValue(gYearMonth);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "gYearMonth" element
+         */
+        public void xsetGYearMonthArray(org.apache.xmlbeans.XmlGYearMonth[]gYearMonthArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(gYearMonthArray, GYEARMONTH$28);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "gYearMonth" element
+         */
+        public void xsetGYearMonthArray(int i, org.apache.xmlbeans.XmlGYearMonth gYearMonth)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlGYearMonth target = null;
+                target = (org.apache.xmlbeans.XmlGYearMonth)get_store().find_element_user(GYEARMONTH$28, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(gYearMonth);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "gYearMonth" element
+         */
+        public void insertGYearMonth(int i, java.util.Calendar gYearMonth)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(GYEARMONTH$28, i);
+                target.setCalendarValue(gYearMonth);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "gYearMonth" element
+         */
+        public void addGYearMonth(java.util.Calendar gYearMonth)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(GYEARMONTH$28);
+                target.setCalendarValue(gYearMonth);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "gYearMonth" element
+         */
+        public org.apache.xmlbeans.XmlGYearMonth insertNewGYearMonth(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlGYearMonth target = null;
+                target = (org.apache.xmlbeans.XmlGYearMonth)get_store().insert_element_user(GYEARMONTH$28, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "gYearMonth" element
+         */
+        public org.apache.xmlbeans.XmlGYearMonth addNewGYearMonth()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlGYearMonth target = null;
+                target = (org.apache.xmlbeans.XmlGYearMonth)get_store().add_element_user(GYEARMONTH$28);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "gYearMonth" element
+         */
+        public void removeGYearMonth(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(GYEARMONTH$28, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "duration" elements
+         */
+        public org.apache.xmlbeans.GDuration[] getDurationArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DURATION$30, targetList);
+                org.apache.xmlbeans.GDuration[] result = new org.apache.xmlbeans.GDuration[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getGDurationValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "duration" element
+         */
+        public org.apache.xmlbeans.GDuration getDurationArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DURATION$30, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getGDurationValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "duration" elements
+         */
+        public org.apache.xmlbeans.XmlDuration[] xgetDurationArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(DURATION$30, targetList);
+                org.apache.xmlbeans.XmlDuration[] result = new org.apache.xmlbeans.XmlDuration[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "duration" element
+         */
+        public org.apache.xmlbeans.XmlDuration xgetDurationArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DURATION$30, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "duration" element
+         */
+        public int sizeOfDurationArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DURATION$30);
+            }
+        }
+        
+        /**
+         * Sets array of all "duration" element
+         */
+        public void setDurationArray(org.apache.xmlbeans.GDuration[] durationArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(durationArray, DURATION$30);
+            }
+        }
+        
+        /**
+         * Sets ith "duration" element
+         */
+        public void setDurationArray(int i, org.apache.xmlbeans.GDuration duration)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DURATION$30, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setGDurationValue(duration);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "duration" element
+         */
+        public void xsetDurationArray(org.apache.xmlbeans.XmlDuration[]durationArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(durationArray, DURATION$30);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "duration" element
+         */
+        public void xsetDurationArray(int i, org.apache.xmlbeans.XmlDuration duration)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().find_element_user(DURATION$30, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(duration);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "duration" element
+         */
+        public void insertDuration(int i, org.apache.xmlbeans.GDuration duration)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DURATION$30, i);
+                target.setGDurationValue(duration);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "duration" element
+         */
+        public void addDuration(org.apache.xmlbeans.GDuration duration)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DURATION$30);
+                target.setGDurationValue(duration);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "duration" element
+         */
+        public org.apache.xmlbeans.XmlDuration insertNewDuration(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().insert_element_user(DURATION$30, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "duration" element
+         */
+        public org.apache.xmlbeans.XmlDuration addNewDuration()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDuration target = null;
+                target = (org.apache.xmlbeans.XmlDuration)get_store().add_element_user(DURATION$30);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "duration" element
+         */
+        public void removeDuration(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DURATION$30, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "QName" elements
+         */
+        public javax.xml.namespace.QName[] getQNameArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(QNAME$32, targetList);
+                javax.xml.namespace.QName[] result = new javax.xml.namespace.QName[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getQNameValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "QName" element
+         */
+        public javax.xml.namespace.QName getQNameArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QNAME$32, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getQNameValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "QName" elements
+         */
+        public org.apache.xmlbeans.XmlQName[] xgetQNameArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(QNAME$32, targetList);
+                org.apache.xmlbeans.XmlQName[] result = new org.apache.xmlbeans.XmlQName[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "QName" element
+         */
+        public org.apache.xmlbeans.XmlQName xgetQNameArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlQName target = null;
+                target = (org.apache.xmlbeans.XmlQName)get_store().find_element_user(QNAME$32, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "QName" element
+         */
+        public int sizeOfQNameArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(QNAME$32);
+            }
+        }
+        
+        /**
+         * Sets array of all "QName" element
+         */
+        public void setQNameArray(javax.xml.namespace.QName[] qNameArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(qNameArray, QNAME$32);
+            }
+        }
+        
+        /**
+         * Sets ith "QName" element
+         */
+        public void setQNameArray(int i, javax.xml.namespace.QName qName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QNAME$32, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setQNameValue(qName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "QName" element
+         */
+        public void xsetQNameArray(org.apache.xmlbeans.XmlQName[]qNameArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(qNameArray, QNAME$32);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "QName" element
+         */
+        public void xsetQNameArray(int i, org.apache.xmlbeans.XmlQName qName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlQName target = null;
+                target = (org.apache.xmlbeans.XmlQName)get_store().find_element_user(QNAME$32, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(qName);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "QName" element
+         */
+        public void insertQName(int i, javax.xml.namespace.QName qName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(QNAME$32, i);
+                target.setQNameValue(qName);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "QName" element
+         */
+        public void addQName(javax.xml.namespace.QName qName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QNAME$32);
+                target.setQNameValue(qName);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "QName" element
+         */
+        public org.apache.xmlbeans.XmlQName insertNewQName(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlQName target = null;
+                target = (org.apache.xmlbeans.XmlQName)get_store().insert_element_user(QNAME$32, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "QName" element
+         */
+        public org.apache.xmlbeans.XmlQName addNewQName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlQName target = null;
+                target = (org.apache.xmlbeans.XmlQName)get_store().add_element_user(QNAME$32);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "QName" element
+         */
+        public void removeQName(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(QNAME$32, i);
+            }
+        }
+    }
+}
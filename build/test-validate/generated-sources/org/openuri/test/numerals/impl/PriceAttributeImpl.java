@@ -0,0 +1,131 @@
+/*
+ * An XML attribute type.
+ * Localname: price
+ * Namespace: http://openuri.org/test/Numerals
+ * Java type: org.openuri.test.numerals.PriceAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.numerals.impl;
+/**
+ * A document containing one price(@http://openuri.org/test/Numerals) attribute.
+ *
+ * This is a complex type.
+ */
+public class PriceAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.numerals.PriceAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PriceAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PRICE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Numerals", "price");
+    
+    
+    /**
+     * Gets the "price" attribute
+     */
+    public float getPrice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(PRICE$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexFloat(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PRICE$0);
+            if (target == null)
+            {
+                return 0.0f;
+            }
+            return target.getFloatValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "price" attribute
+     */
+    public org.apache.xmlbeans.XmlFloat xgetPrice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(PRICE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "price" attribute
+     */
+    public boolean isSetPrice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(PRICE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "price" attribute
+     */
+    public void setPrice(float price)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PRICE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PRICE$0);
+            }
+            target.setFloatValue(price);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "price" attribute
+     */
+    public void xsetPrice(org.apache.xmlbeans.XmlFloat price)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlFloat target = null;
+            target = (org.apache.xmlbeans.XmlFloat)get_store().find_attribute_user(PRICE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlFloat)get_store().add_attribute_user(PRICE$0);
+            }
+            target.set(price);
+        }
+    }
+    
+    /**
+     * Unsets the "price" attribute
+     */
+    public void unsetPrice()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(PRICE$0);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * XML Type:  justName
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.JustName
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * An XML justName(@http://openuri.org/test/Person).
+ *
+ * This is a complex type.
+ */
+public class JustNameImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.person.JustName
+{
+    private static final long serialVersionUID = 1L;
+    
+    public JustNameImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Name");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2420395:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Name" element
+     */
+    public org.openuri.test.person.Name getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Name target = null;
+            target = (org.openuri.test.person.Name)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Name" element
+     */
+    public void setName(org.openuri.test.person.Name name)
+    {
+        generatedSetterHelperImpl(name, NAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Name" element
+     */
+    public org.openuri.test.person.Name addNewName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Name target = null;
+            target = (org.openuri.test.person.Name)get_store().add_element_user(NAME$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  middlename
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.Middlename
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * An XML middlename(@http://openuri.org/test/Person).
+ *
+ * This is a complex type.
+ */
+public class MiddlenameImpl extends org.openuri.test.person.impl.NameImpl implements org.openuri.test.person.Middlename
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MiddlenameImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MIDDLE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Middle");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1990474315:
+                if (name.equals(MIDDLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Middle" element
+     */
+    public java.lang.String getMiddle()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MIDDLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Middle" element
+     */
+    public org.apache.xmlbeans.XmlString xgetMiddle()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(MIDDLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Middle" element
+     */
+    public void setMiddle(java.lang.String middle)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MIDDLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MIDDLE$0);
+            }
+            target.setStringValue(middle);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Middle" element
+     */
+    public void xsetMiddle(org.apache.xmlbeans.XmlString middle)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(MIDDLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(MIDDLE$0);
+            }
+            target.set(middle);
+        }
+    }
+}
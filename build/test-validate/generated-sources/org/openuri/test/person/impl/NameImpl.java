@@ -0,0 +1,182 @@
+/*
+ * XML Type:  name
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.Name
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * An XML name(@http://openuri.org/test/Person).
+ *
+ * This is a complex type.
+ */
+public class NameImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.person.Name
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRST$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "First");
+    private static final javax.xml.namespace.QName LAST$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Last");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2361014:
+                if (name.equals(LAST$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 67887760:
+                if (name.equals(FIRST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "First" element
+     */
+    public java.lang.String getFirst()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "First" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFirst()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRST$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "First" element
+     */
+    public void setFirst(java.lang.String first)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRST$0);
+            }
+            target.setStringValue(first);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "First" element
+     */
+    public void xsetFirst(org.apache.xmlbeans.XmlString first)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRST$0);
+            }
+            target.set(first);
+        }
+    }
+    
+    /**
+     * Gets the "Last" element
+     */
+    public java.lang.String getLast()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LAST$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Last" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLast()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LAST$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Last" element
+     */
+    public void setLast(java.lang.String last)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LAST$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LAST$2);
+            }
+            target.setStringValue(last);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Last" element
+     */
+    public void xsetLast(org.apache.xmlbeans.XmlString last)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LAST$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LAST$2);
+            }
+            target.set(last);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Person
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * A document containing one Person(@http://openuri.org/test/Person) element.
+ *
+ * This is a complex type.
+ */
+public class PersonDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.person.PersonDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Person");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1907849355:
+                if (name.equals(PERSON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Person" element
+     */
+    public org.openuri.test.person.PersonType getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.PersonType target = null;
+            target = (org.openuri.test.person.PersonType)get_store().find_element_user(PERSON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Person" element
+     */
+    public void setPerson(org.openuri.test.person.PersonType person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Person" element
+     */
+    public org.openuri.test.person.PersonType addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.PersonType target = null;
+            target = (org.openuri.test.person.PersonType)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+}
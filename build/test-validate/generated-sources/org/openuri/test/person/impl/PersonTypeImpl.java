@@ -0,0 +1,377 @@
+/*
+ * XML Type:  personType
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.PersonType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * An XML personType(@http://openuri.org/test/Person).
+ *
+ * This is a complex type.
+ */
+public class PersonTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.person.PersonType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Name");
+    private static final javax.xml.namespace.QName SIBLING$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/Person", "Sibling");
+    private static final javax.xml.namespace.QName SEX$4 = 
+        new javax.xml.namespace.QName("", "Sex");
+    private static final javax.xml.namespace.QName BIRTHDAY$6 = 
+        new javax.xml.namespace.QName("", "Birthday");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -546718046:
+                if (name.equals(SIBLING$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 2420395:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Name" element
+     */
+    public org.openuri.test.person.Name getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Name target = null;
+            target = (org.openuri.test.person.Name)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Name" element
+     */
+    public void setName(org.openuri.test.person.Name name)
+    {
+        generatedSetterHelperImpl(name, NAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Name" element
+     */
+    public org.openuri.test.person.Name addNewName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Name target = null;
+            target = (org.openuri.test.person.Name)get_store().add_element_user(NAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "Sibling" elements
+     */
+    public org.openuri.test.person.PersonType[] getSiblingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SIBLING$2, targetList);
+            org.openuri.test.person.PersonType[] result = new org.openuri.test.person.PersonType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "Sibling" element
+     */
+    public org.openuri.test.person.PersonType getSiblingArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.PersonType target = null;
+            target = (org.openuri.test.person.PersonType)get_store().find_element_user(SIBLING$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "Sibling" element
+     */
+    public int sizeOfSiblingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SIBLING$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "Sibling" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSiblingArray(org.openuri.test.person.PersonType[] siblingArray)
+    {
+        check_orphaned();
+        arraySetterHelper(siblingArray, SIBLING$2);
+    }
+    
+    /**
+     * Sets ith "Sibling" element
+     */
+    public void setSiblingArray(int i, org.openuri.test.person.PersonType sibling)
+    {
+        generatedSetterHelperImpl(sibling, SIBLING$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "Sibling" element
+     */
+    public org.openuri.test.person.PersonType insertNewSibling(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.PersonType target = null;
+            target = (org.openuri.test.person.PersonType)get_store().insert_element_user(SIBLING$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "Sibling" element
+     */
+    public org.openuri.test.person.PersonType addNewSibling()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.PersonType target = null;
+            target = (org.openuri.test.person.PersonType)get_store().add_element_user(SIBLING$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "Sibling" element
+     */
+    public void removeSibling(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SIBLING$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "Sex" attribute
+     */
+    public org.openuri.test.person.Sex.Enum getSex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEX$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.openuri.test.person.Sex.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Sex" attribute
+     */
+    public org.openuri.test.person.Sex xgetSex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Sex target = null;
+            target = (org.openuri.test.person.Sex)get_store().find_attribute_user(SEX$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "Sex" attribute
+     */
+    public boolean isSetSex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(SEX$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "Sex" attribute
+     */
+    public void setSex(org.openuri.test.person.Sex.Enum sex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SEX$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SEX$4);
+            }
+            target.setEnumValue(sex);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Sex" attribute
+     */
+    public void xsetSex(org.openuri.test.person.Sex sex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.person.Sex target = null;
+            target = (org.openuri.test.person.Sex)get_store().find_attribute_user(SEX$4);
+            if (target == null)
+            {
+                target = (org.openuri.test.person.Sex)get_store().add_attribute_user(SEX$4);
+            }
+            target.set(sex);
+        }
+    }
+    
+    /**
+     * Unsets the "Sex" attribute
+     */
+    public void unsetSex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(SEX$4);
+        }
+    }
+    
+    /**
+     * Gets the "Birthday" attribute
+     */
+    public java.util.Calendar getBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BIRTHDAY$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Birthday" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(BIRTHDAY$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "Birthday" attribute
+     */
+    public boolean isSetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(BIRTHDAY$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "Birthday" attribute
+     */
+    public void setBirthday(java.util.Calendar birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BIRTHDAY$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(BIRTHDAY$6);
+            }
+            target.setCalendarValue(birthday);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Birthday" attribute
+     */
+    public void xsetBirthday(org.apache.xmlbeans.XmlDate birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(BIRTHDAY$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(BIRTHDAY$6);
+            }
+            target.set(birthday);
+        }
+    }
+    
+    /**
+     * Unsets the "Birthday" attribute
+     */
+    public void unsetBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(BIRTHDAY$6);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  sex
+ * Namespace: http://openuri.org/test/Person
+ * Java type: org.openuri.test.person.Sex
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.person.impl;
+/**
+ * An XML sex(@http://openuri.org/test/Person).
+ *
+ * This is an atomic type that is a restriction of org.openuri.test.person.Sex.
+ */
+public class SexImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.openuri.test.person.Sex
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SexImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SexImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: Age
+ * Namespace: http://openuri.org/test/SimType
+ * Java type: org.openuri.test.simType.AgeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.simType.impl;
+/**
+ * A document containing one Age(@http://openuri.org/test/SimType) element.
+ *
+ * This is a complex type.
+ */
+public class AgeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.simType.AgeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AgeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AGE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/SimType", "Age");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 65759:
+                if (name.equals(AGE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Age" element
+     */
+    public int getAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(AGE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AGE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Age" element
+     */
+    public org.openuri.test.simType.AgeType xgetAge()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.simType.AgeType target = null;
+            target = (org.openuri.test.simType.AgeType)get_store().find_element_user(AGE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Age" element
+     */
+    public void setAge(int age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AGE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AGE$0);
+            }
+            target.setIntValue(age);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Age" element
+     */
+    public void xsetAge(org.openuri.test.simType.AgeType age)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.simType.AgeType target = null;
+            target = (org.openuri.test.simType.AgeType)get_store().find_element_user(AGE$0, 0);
+            if (target == null)
+            {
+                target = (org.openuri.test.simType.AgeType)get_store().add_element_user(AGE$0);
+            }
+            target.set(age);
+        }
+    }
+}
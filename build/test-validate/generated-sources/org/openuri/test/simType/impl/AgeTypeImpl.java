@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ageType
+ * Namespace: http://openuri.org/test/SimType
+ * Java type: org.openuri.test.simType.AgeType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.simType.impl;
+/**
+ * An XML ageType(@http://openuri.org/test/SimType).
+ *
+ * This is an atomic type that is a restriction of org.openuri.test.simType.AgeType.
+ */
+public class AgeTypeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.openuri.test.simType.AgeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AgeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected AgeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: QN
+ * Namespace: http://openuri.org/test/SimType
+ * Java type: org.openuri.test.simType.QNDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.simType.impl;
+/**
+ * A document containing one QN(@http://openuri.org/test/SimType) element.
+ *
+ * This is a complex type.
+ */
+public class QNDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.simType.QNDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public QNDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName QN$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/SimType", "QN");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2589:
+                if (name.equals(QN$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "QN" element
+     */
+    public javax.xml.namespace.QName getQN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QN$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getQNameValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "QN" element
+     */
+    public org.openuri.test.simType.QNameType xgetQN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.simType.QNameType target = null;
+            target = (org.openuri.test.simType.QNameType)get_store().find_element_user(QN$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "QN" element
+     */
+    public void setQN(javax.xml.namespace.QName qn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QN$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QN$0);
+            }
+            target.setQNameValue(qn);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "QN" element
+     */
+    public void xsetQN(org.openuri.test.simType.QNameType qn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.simType.QNameType target = null;
+            target = (org.openuri.test.simType.QNameType)get_store().find_element_user(QN$0, 0);
+            if (target == null)
+            {
+                target = (org.openuri.test.simType.QNameType)get_store().add_element_user(QN$0);
+            }
+            target.set(qn);
+        }
+    }
+}
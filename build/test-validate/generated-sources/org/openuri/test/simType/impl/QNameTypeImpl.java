@@ -0,0 +1,27 @@
+/*
+ * XML Type:  qNameType
+ * Namespace: http://openuri.org/test/SimType
+ * Java type: org.openuri.test.simType.QNameType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.simType.impl;
+/**
+ * An XML qNameType(@http://openuri.org/test/SimType).
+ *
+ * This is an atomic type that is a restriction of org.openuri.test.simType.QNameType.
+ */
+public class QNameTypeImpl extends org.apache.xmlbeans.impl.values.JavaQNameHolderEx implements org.openuri.test.simType.QNameType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public QNameTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected QNameTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
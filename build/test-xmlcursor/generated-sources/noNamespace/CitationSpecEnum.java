@@ -0,0 +1,187 @@
+/*
+ * XML Type:  citation-spec-enum
+ * Namespace: 
+ * Java type: noNamespace.CitationSpecEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML citation-spec-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.CitationSpecEnum.
+ */
+public interface CitationSpecEnum extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CitationSpecEnum.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("citationspecenumb696type");
+    
+    org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+    void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+    
+    static final Enum X_QUERY = Enum.forString("XQuery");
+    static final Enum FUNC_OPS = Enum.forString("FuncOps");
+    static final Enum DATA_MODEL = Enum.forString("DataModel");
+    static final Enum FORMAL_SEMANTICS = Enum.forString("FormalSemantics");
+    static final Enum SCHEMA_PART_2 = Enum.forString("SchemaPart2");
+    static final Enum SCHEMA_ERRATA = Enum.forString("Schema-Errata");
+    static final Enum X_PATH_1 = Enum.forString("XPath1");
+    static final Enum X_PATH_1_ERRATA = Enum.forString("XPath1-Errata");
+    static final Enum NAMESPACES = Enum.forString("Namespaces");
+    static final Enum NAMESPACES_ERRATA = Enum.forString("Namespaces-Errata");
+    
+    static final int INT_X_QUERY = Enum.INT_X_QUERY;
+    static final int INT_FUNC_OPS = Enum.INT_FUNC_OPS;
+    static final int INT_DATA_MODEL = Enum.INT_DATA_MODEL;
+    static final int INT_FORMAL_SEMANTICS = Enum.INT_FORMAL_SEMANTICS;
+    static final int INT_SCHEMA_PART_2 = Enum.INT_SCHEMA_PART_2;
+    static final int INT_SCHEMA_ERRATA = Enum.INT_SCHEMA_ERRATA;
+    static final int INT_X_PATH_1 = Enum.INT_X_PATH_1;
+    static final int INT_X_PATH_1_ERRATA = Enum.INT_X_PATH_1_ERRATA;
+    static final int INT_NAMESPACES = Enum.INT_NAMESPACES;
+    static final int INT_NAMESPACES_ERRATA = Enum.INT_NAMESPACES_ERRATA;
+    
+    /**
+     * Enumeration value class for noNamespace.CitationSpecEnum.
+     * These enum values can be used as follows:
+     * <pre>
+     * enum.toString(); // returns the string value of the enum
+     * enum.intValue(); // returns an int value, useful for switches
+     * // e.g., case Enum.INT_X_QUERY
+     * Enum.forString(s); // returns the enum value for a string
+     * Enum.forInt(i); // returns the enum value for an int
+     * </pre>
+     * Enumeration objects are immutable singleton objects that
+     * can be compared using == object equality. They have no
+     * public constructor. See the constants defined within this
+     * class for all the valid values.
+     */
+    static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+    {
+        /**
+         * Returns the enum value for a string, or null if none.
+         */
+        public static Enum forString(java.lang.String s)
+            { return (Enum)table.forString(s); }
+        /**
+         * Returns the enum value corresponding to an int, or null if none.
+         */
+        public static Enum forInt(int i)
+            { return (Enum)table.forInt(i); }
+        
+        private Enum(java.lang.String s, int i)
+            { super(s, i); }
+        
+        static final int INT_X_QUERY = 1;
+        static final int INT_FUNC_OPS = 2;
+        static final int INT_DATA_MODEL = 3;
+        static final int INT_FORMAL_SEMANTICS = 4;
+        static final int INT_SCHEMA_PART_2 = 5;
+        static final int INT_SCHEMA_ERRATA = 6;
+        static final int INT_X_PATH_1 = 7;
+        static final int INT_X_PATH_1_ERRATA = 8;
+        static final int INT_NAMESPACES = 9;
+        static final int INT_NAMESPACES_ERRATA = 10;
+        
+        public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+            new org.apache.xmlbeans.StringEnumAbstractBase.Table
+        (
+            new Enum[]
+            {
+                new Enum("XQuery", INT_X_QUERY),
+                new Enum("FuncOps", INT_FUNC_OPS),
+                new Enum("DataModel", INT_DATA_MODEL),
+                new Enum("FormalSemantics", INT_FORMAL_SEMANTICS),
+                new Enum("SchemaPart2", INT_SCHEMA_PART_2),
+                new Enum("Schema-Errata", INT_SCHEMA_ERRATA),
+                new Enum("XPath1", INT_X_PATH_1),
+                new Enum("XPath1-Errata", INT_X_PATH_1_ERRATA),
+                new Enum("Namespaces", INT_NAMESPACES),
+                new Enum("Namespaces-Errata", INT_NAMESPACES_ERRATA),
+            }
+        );
+        private static final long serialVersionUID = 1L;
+        private java.lang.Object readResolve() { return forInt(intValue()); } 
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.CitationSpecEnum newValue(java.lang.Object obj) {
+          return (noNamespace.CitationSpecEnum) type.newValue( obj ); }
+        
+        public static noNamespace.CitationSpecEnum newInstance() {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.CitationSpecEnum newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.CitationSpecEnum parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.CitationSpecEnum parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.CitationSpecEnum parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.CitationSpecEnum parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.CitationSpecEnum parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.CitationSpecEnum parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.CitationSpecEnum parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.CitationSpecEnum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
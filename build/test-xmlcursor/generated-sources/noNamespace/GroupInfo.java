@@ -0,0 +1,201 @@
+/*
+ * XML Type:  GroupInfo
+ * Namespace: 
+ * Java type: noNamespace.GroupInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML GroupInfo(@).
+ *
+ * This is a complex type.
+ */
+public interface GroupInfo extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GroupInfo.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("groupinfo3364type");
+    
+    /**
+     * Gets the "title" element
+     */
+    java.lang.String getTitle();
+    
+    /**
+     * Gets (as xml) the "title" element
+     */
+    org.apache.xmlbeans.XmlString xgetTitle();
+    
+    /**
+     * Sets the "title" element
+     */
+    void setTitle(java.lang.String title);
+    
+    /**
+     * Sets (as xml) the "title" element
+     */
+    void xsetTitle(org.apache.xmlbeans.XmlString title);
+    
+    /**
+     * Gets the "description" element
+     */
+    noNamespace.Description getDescription();
+    
+    /**
+     * Sets the "description" element
+     */
+    void setDescription(noNamespace.Description description);
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    noNamespace.Description addNewDescription();
+    
+    /**
+     * Gets array of all "note" elements
+     */
+    java.lang.String[] getNoteArray();
+    
+    /**
+     * Gets ith "note" element
+     */
+    java.lang.String getNoteArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "note" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetNoteArray();
+    
+    /**
+     * Gets (as xml) ith "note" element
+     */
+    org.apache.xmlbeans.XmlString xgetNoteArray(int i);
+    
+    /**
+     * Returns number of "note" element
+     */
+    int sizeOfNoteArray();
+    
+    /**
+     * Sets array of all "note" element
+     */
+    void setNoteArray(java.lang.String[] noteArray);
+    
+    /**
+     * Sets ith "note" element
+     */
+    void setNoteArray(int i, java.lang.String note);
+    
+    /**
+     * Sets (as xml) array of all "note" element
+     */
+    void xsetNoteArray(org.apache.xmlbeans.XmlString[] noteArray);
+    
+    /**
+     * Sets (as xml) ith "note" element
+     */
+    void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note);
+    
+    /**
+     * Inserts the value as the ith "note" element
+     */
+    void insertNote(int i, java.lang.String note);
+    
+    /**
+     * Appends the value as the last "note" element
+     */
+    void addNote(java.lang.String note);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "note" element
+     */
+    org.apache.xmlbeans.XmlString insertNewNote(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "note" element
+     */
+    org.apache.xmlbeans.XmlString addNewNote();
+    
+    /**
+     * Removes the ith "note" element
+     */
+    void removeNote(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.GroupInfo newInstance() {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.GroupInfo newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.GroupInfo parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.GroupInfo parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.GroupInfo parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.GroupInfo parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.GroupInfo parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.GroupInfo parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.GroupInfo parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.GroupInfo parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.GroupInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.GroupInfo parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.GroupInfo) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
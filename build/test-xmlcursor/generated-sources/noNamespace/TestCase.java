@@ -0,0 +1,959 @@
+/*
+ * XML Type:  test-case
+ * Namespace: 
+ * Java type: noNamespace.TestCase
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML test-case(@).
+ *
+ * This is a complex type.
+ */
+public interface TestCase extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestCase.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testcaseff42type");
+    
+    /**
+     * Gets the "description" element
+     */
+    noNamespace.Description getDescription();
+    
+    /**
+     * Sets the "description" element
+     */
+    void setDescription(noNamespace.Description description);
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    noNamespace.Description addNewDescription();
+    
+    /**
+     * Gets array of all "note" elements
+     */
+    java.lang.String[] getNoteArray();
+    
+    /**
+     * Gets ith "note" element
+     */
+    java.lang.String getNoteArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "note" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetNoteArray();
+    
+    /**
+     * Gets (as xml) ith "note" element
+     */
+    org.apache.xmlbeans.XmlString xgetNoteArray(int i);
+    
+    /**
+     * Returns number of "note" element
+     */
+    int sizeOfNoteArray();
+    
+    /**
+     * Sets array of all "note" element
+     */
+    void setNoteArray(java.lang.String[] noteArray);
+    
+    /**
+     * Sets ith "note" element
+     */
+    void setNoteArray(int i, java.lang.String note);
+    
+    /**
+     * Sets (as xml) array of all "note" element
+     */
+    void xsetNoteArray(org.apache.xmlbeans.XmlString[] noteArray);
+    
+    /**
+     * Sets (as xml) ith "note" element
+     */
+    void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note);
+    
+    /**
+     * Inserts the value as the ith "note" element
+     */
+    void insertNote(int i, java.lang.String note);
+    
+    /**
+     * Appends the value as the last "note" element
+     */
+    void addNote(java.lang.String note);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "note" element
+     */
+    org.apache.xmlbeans.XmlString insertNewNote(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "note" element
+     */
+    org.apache.xmlbeans.XmlString addNewNote();
+    
+    /**
+     * Removes the ith "note" element
+     */
+    void removeNote(int i);
+    
+    /**
+     * Gets array of all "spec-citation" elements
+     */
+    noNamespace.TestCase.SpecCitation[] getSpecCitationArray();
+    
+    /**
+     * Gets ith "spec-citation" element
+     */
+    noNamespace.TestCase.SpecCitation getSpecCitationArray(int i);
+    
+    /**
+     * Returns number of "spec-citation" element
+     */
+    int sizeOfSpecCitationArray();
+    
+    /**
+     * Sets array of all "spec-citation" element
+     */
+    void setSpecCitationArray(noNamespace.TestCase.SpecCitation[] specCitationArray);
+    
+    /**
+     * Sets ith "spec-citation" element
+     */
+    void setSpecCitationArray(int i, noNamespace.TestCase.SpecCitation specCitation);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "spec-citation" element
+     */
+    noNamespace.TestCase.SpecCitation insertNewSpecCitation(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "spec-citation" element
+     */
+    noNamespace.TestCase.SpecCitation addNewSpecCitation();
+    
+    /**
+     * Removes the ith "spec-citation" element
+     */
+    void removeSpecCitation(int i);
+    
+    /**
+     * Gets the "query" element
+     */
+    noNamespace.TestCase.Query getQuery();
+    
+    /**
+     * Sets the "query" element
+     */
+    void setQuery(noNamespace.TestCase.Query query);
+    
+    /**
+     * Appends and returns a new empty "query" element
+     */
+    noNamespace.TestCase.Query addNewQuery();
+    
+    /**
+     * Gets array of all "input-file" elements
+     */
+    noNamespace.TestCase.InputFile[] getInputFileArray();
+    
+    /**
+     * Gets ith "input-file" element
+     */
+    noNamespace.TestCase.InputFile getInputFileArray(int i);
+    
+    /**
+     * Returns number of "input-file" element
+     */
+    int sizeOfInputFileArray();
+    
+    /**
+     * Sets array of all "input-file" element
+     */
+    void setInputFileArray(noNamespace.TestCase.InputFile[] inputFileArray);
+    
+    /**
+     * Sets ith "input-file" element
+     */
+    void setInputFileArray(int i, noNamespace.TestCase.InputFile inputFile);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "input-file" element
+     */
+    noNamespace.TestCase.InputFile insertNewInputFile(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "input-file" element
+     */
+    noNamespace.TestCase.InputFile addNewInputFile();
+    
+    /**
+     * Removes the ith "input-file" element
+     */
+    void removeInputFile(int i);
+    
+    /**
+     * Gets array of all "output-file" elements
+     */
+    noNamespace.TestCase.OutputFile[] getOutputFileArray();
+    
+    /**
+     * Gets ith "output-file" element
+     */
+    noNamespace.TestCase.OutputFile getOutputFileArray(int i);
+    
+    /**
+     * Returns number of "output-file" element
+     */
+    int sizeOfOutputFileArray();
+    
+    /**
+     * Sets array of all "output-file" element
+     */
+    void setOutputFileArray(noNamespace.TestCase.OutputFile[] outputFileArray);
+    
+    /**
+     * Sets ith "output-file" element
+     */
+    void setOutputFileArray(int i, noNamespace.TestCase.OutputFile outputFile);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "output-file" element
+     */
+    noNamespace.TestCase.OutputFile insertNewOutputFile(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "output-file" element
+     */
+    noNamespace.TestCase.OutputFile addNewOutputFile();
+    
+    /**
+     * Removes the ith "output-file" element
+     */
+    void removeOutputFile(int i);
+    
+    /**
+     * Gets the "name" attribute
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * True if has "name" attribute
+     */
+    boolean isSetName();
+    
+    /**
+     * Sets the "name" attribute
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    void unsetName();
+    
+    /**
+     * Gets the "FilePath" attribute
+     */
+    java.lang.String getFilePath();
+    
+    /**
+     * Gets (as xml) the "FilePath" attribute
+     */
+    org.apache.xmlbeans.XmlAnyURI xgetFilePath();
+    
+    /**
+     * True if has "FilePath" attribute
+     */
+    boolean isSetFilePath();
+    
+    /**
+     * Sets the "FilePath" attribute
+     */
+    void setFilePath(java.lang.String filePath);
+    
+    /**
+     * Sets (as xml) the "FilePath" attribute
+     */
+    void xsetFilePath(org.apache.xmlbeans.XmlAnyURI filePath);
+    
+    /**
+     * Unsets the "FilePath" attribute
+     */
+    void unsetFilePath();
+    
+    /**
+     * Gets the "scenario" attribute
+     */
+    noNamespace.ScenariosEnum.Enum getScenario();
+    
+    /**
+     * Gets (as xml) the "scenario" attribute
+     */
+    noNamespace.ScenariosEnum xgetScenario();
+    
+    /**
+     * True if has "scenario" attribute
+     */
+    boolean isSetScenario();
+    
+    /**
+     * Sets the "scenario" attribute
+     */
+    void setScenario(noNamespace.ScenariosEnum.Enum scenario);
+    
+    /**
+     * Sets (as xml) the "scenario" attribute
+     */
+    void xsetScenario(noNamespace.ScenariosEnum scenario);
+    
+    /**
+     * Unsets the "scenario" attribute
+     */
+    void unsetScenario();
+    
+    /**
+     * Gets the "Creator" attribute
+     */
+    java.lang.String getCreator();
+    
+    /**
+     * Gets (as xml) the "Creator" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetCreator();
+    
+    /**
+     * True if has "Creator" attribute
+     */
+    boolean isSetCreator();
+    
+    /**
+     * Sets the "Creator" attribute
+     */
+    void setCreator(java.lang.String creator);
+    
+    /**
+     * Sets (as xml) the "Creator" attribute
+     */
+    void xsetCreator(org.apache.xmlbeans.XmlString creator);
+    
+    /**
+     * Unsets the "Creator" attribute
+     */
+    void unsetCreator();
+    
+    /**
+     * Gets the "version-drop" attribute
+     */
+    java.util.Calendar getVersionDrop();
+    
+    /**
+     * Gets (as xml) the "version-drop" attribute
+     */
+    org.apache.xmlbeans.XmlDate xgetVersionDrop();
+    
+    /**
+     * True if has "version-drop" attribute
+     */
+    boolean isSetVersionDrop();
+    
+    /**
+     * Sets the "version-drop" attribute
+     */
+    void setVersionDrop(java.util.Calendar versionDrop);
+    
+    /**
+     * Sets (as xml) the "version-drop" attribute
+     */
+    void xsetVersionDrop(org.apache.xmlbeans.XmlDate versionDrop);
+    
+    /**
+     * Unsets the "version-drop" attribute
+     */
+    void unsetVersionDrop();
+    
+    /**
+     * An XML spec-citation(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$SpecCitation.
+     */
+    public interface SpecCitation extends org.apache.xmlbeans.XmlString
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SpecCitation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("speccitation42f7elemtype");
+        
+        /**
+         * Gets the "type" attribute
+         */
+        noNamespace.CitationTypeEnum.Enum getType();
+        
+        /**
+         * Gets (as xml) the "type" attribute
+         */
+        noNamespace.CitationTypeEnum xgetType();
+        
+        /**
+         * True if has "type" attribute
+         */
+        boolean isSetType();
+        
+        /**
+         * Sets the "type" attribute
+         */
+        void setType(noNamespace.CitationTypeEnum.Enum type);
+        
+        /**
+         * Sets (as xml) the "type" attribute
+         */
+        void xsetType(noNamespace.CitationTypeEnum type);
+        
+        /**
+         * Unsets the "type" attribute
+         */
+        void unsetType();
+        
+        /**
+         * Gets the "place" attribute
+         */
+        java.lang.String getPlace();
+        
+        /**
+         * Gets (as xml) the "place" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetPlace();
+        
+        /**
+         * True if has "place" attribute
+         */
+        boolean isSetPlace();
+        
+        /**
+         * Sets the "place" attribute
+         */
+        void setPlace(java.lang.String place);
+        
+        /**
+         * Sets (as xml) the "place" attribute
+         */
+        void xsetPlace(org.apache.xmlbeans.XmlString place);
+        
+        /**
+         * Unsets the "place" attribute
+         */
+        void unsetPlace();
+        
+        /**
+         * Gets the "spec" attribute
+         */
+        noNamespace.CitationSpecEnum.Enum getSpec();
+        
+        /**
+         * Gets (as xml) the "spec" attribute
+         */
+        noNamespace.CitationSpecEnum xgetSpec();
+        
+        /**
+         * True if has "spec" attribute
+         */
+        boolean isSetSpec();
+        
+        /**
+         * Sets the "spec" attribute
+         */
+        void setSpec(noNamespace.CitationSpecEnum.Enum spec);
+        
+        /**
+         * Sets (as xml) the "spec" attribute
+         */
+        void xsetSpec(noNamespace.CitationSpecEnum spec);
+        
+        /**
+         * Unsets the "spec" attribute
+         */
+        void unsetSpec();
+        
+        /**
+         * Gets the "version" attribute
+         */
+        java.util.Calendar getVersion();
+        
+        /**
+         * Gets (as xml) the "version" attribute
+         */
+        org.apache.xmlbeans.XmlDate xgetVersion();
+        
+        /**
+         * True if has "version" attribute
+         */
+        boolean isSetVersion();
+        
+        /**
+         * Sets the "version" attribute
+         */
+        void setVersion(java.util.Calendar version);
+        
+        /**
+         * Sets (as xml) the "version" attribute
+         */
+        void xsetVersion(org.apache.xmlbeans.XmlDate version);
+        
+        /**
+         * Unsets the "version" attribute
+         */
+        void unsetVersion();
+        
+        /**
+         * Gets the "version-drop" attribute
+         */
+        java.util.Calendar getVersionDrop();
+        
+        /**
+         * Gets (as xml) the "version-drop" attribute
+         */
+        org.apache.xmlbeans.XmlDate xgetVersionDrop();
+        
+        /**
+         * True if has "version-drop" attribute
+         */
+        boolean isSetVersionDrop();
+        
+        /**
+         * Sets the "version-drop" attribute
+         */
+        void setVersionDrop(java.util.Calendar versionDrop);
+        
+        /**
+         * Sets (as xml) the "version-drop" attribute
+         */
+        void xsetVersionDrop(org.apache.xmlbeans.XmlDate versionDrop);
+        
+        /**
+         * Unsets the "version-drop" attribute
+         */
+        void unsetVersionDrop();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestCase.SpecCitation newInstance() {
+              return (noNamespace.TestCase.SpecCitation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestCase.SpecCitation newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestCase.SpecCitation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML query(@).
+     *
+     * This is a complex type.
+     */
+    public interface Query extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Query.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("query9c86elemtype");
+        
+        /**
+         * Gets the "description" element
+         */
+        noNamespace.Description getDescription();
+        
+        /**
+         * Sets the "description" element
+         */
+        void setDescription(noNamespace.Description description);
+        
+        /**
+         * Appends and returns a new empty "description" element
+         */
+        noNamespace.Description addNewDescription();
+        
+        /**
+         * Gets array of all "note" elements
+         */
+        java.lang.String[] getNoteArray();
+        
+        /**
+         * Gets ith "note" element
+         */
+        java.lang.String getNoteArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "note" elements
+         */
+        org.apache.xmlbeans.XmlString[] xgetNoteArray();
+        
+        /**
+         * Gets (as xml) ith "note" element
+         */
+        org.apache.xmlbeans.XmlString xgetNoteArray(int i);
+        
+        /**
+         * Returns number of "note" element
+         */
+        int sizeOfNoteArray();
+        
+        /**
+         * Sets array of all "note" element
+         */
+        void setNoteArray(java.lang.String[] noteArray);
+        
+        /**
+         * Sets ith "note" element
+         */
+        void setNoteArray(int i, java.lang.String note);
+        
+        /**
+         * Sets (as xml) array of all "note" element
+         */
+        void xsetNoteArray(org.apache.xmlbeans.XmlString[] noteArray);
+        
+        /**
+         * Sets (as xml) ith "note" element
+         */
+        void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note);
+        
+        /**
+         * Inserts the value as the ith "note" element
+         */
+        void insertNote(int i, java.lang.String note);
+        
+        /**
+         * Appends the value as the last "note" element
+         */
+        void addNote(java.lang.String note);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "note" element
+         */
+        org.apache.xmlbeans.XmlString insertNewNote(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "note" element
+         */
+        org.apache.xmlbeans.XmlString addNewNote();
+        
+        /**
+         * Removes the ith "note" element
+         */
+        void removeNote(int i);
+        
+        /**
+         * Gets the "name" attribute
+         */
+        java.lang.String getName();
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetName();
+        
+        /**
+         * True if has "name" attribute
+         */
+        boolean isSetName();
+        
+        /**
+         * Sets the "name" attribute
+         */
+        void setName(java.lang.String name);
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        void xsetName(org.apache.xmlbeans.XmlString name);
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        void unsetName();
+        
+        /**
+         * Gets the "date" attribute
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "date" attribute
+         */
+        org.apache.xmlbeans.XmlDate xgetDate();
+        
+        /**
+         * True if has "date" attribute
+         */
+        boolean isSetDate();
+        
+        /**
+         * Sets the "date" attribute
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "date" attribute
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Unsets the "date" attribute
+         */
+        void unsetDate();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestCase.Query newInstance() {
+              return (noNamespace.TestCase.Query) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestCase.Query newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestCase.Query) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML input-file(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$InputFile.
+     */
+    public interface InputFile extends org.apache.xmlbeans.XmlIDREF
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(InputFile.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("inputfilea4edelemtype");
+        
+        /**
+         * Gets the "role" attribute
+         */
+        noNamespace.RoleEnum.Enum getRole();
+        
+        /**
+         * Gets (as xml) the "role" attribute
+         */
+        noNamespace.RoleEnum xgetRole();
+        
+        /**
+         * True if has "role" attribute
+         */
+        boolean isSetRole();
+        
+        /**
+         * Sets the "role" attribute
+         */
+        void setRole(noNamespace.RoleEnum.Enum role);
+        
+        /**
+         * Sets (as xml) the "role" attribute
+         */
+        void xsetRole(noNamespace.RoleEnum role);
+        
+        /**
+         * Unsets the "role" attribute
+         */
+        void unsetRole();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestCase.InputFile newInstance() {
+              return (noNamespace.TestCase.InputFile) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestCase.InputFile newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestCase.InputFile) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML output-file(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$OutputFile.
+     */
+    public interface OutputFile extends org.apache.xmlbeans.XmlString
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OutputFile.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("outputfile4086elemtype");
+        
+        /**
+         * Gets the "role" attribute
+         */
+        noNamespace.RoleEnum.Enum getRole();
+        
+        /**
+         * Gets (as xml) the "role" attribute
+         */
+        noNamespace.RoleEnum xgetRole();
+        
+        /**
+         * True if has "role" attribute
+         */
+        boolean isSetRole();
+        
+        /**
+         * Sets the "role" attribute
+         */
+        void setRole(noNamespace.RoleEnum.Enum role);
+        
+        /**
+         * Sets (as xml) the "role" attribute
+         */
+        void xsetRole(noNamespace.RoleEnum role);
+        
+        /**
+         * Unsets the "role" attribute
+         */
+        void unsetRole();
+        
+        /**
+         * Gets the "compare" attribute
+         */
+        noNamespace.ComparisonEnum.Enum getCompare();
+        
+        /**
+         * Gets (as xml) the "compare" attribute
+         */
+        noNamespace.ComparisonEnum xgetCompare();
+        
+        /**
+         * True if has "compare" attribute
+         */
+        boolean isSetCompare();
+        
+        /**
+         * Sets the "compare" attribute
+         */
+        void setCompare(noNamespace.ComparisonEnum.Enum compare);
+        
+        /**
+         * Sets (as xml) the "compare" attribute
+         */
+        void xsetCompare(noNamespace.ComparisonEnum compare);
+        
+        /**
+         * Unsets the "compare" attribute
+         */
+        void unsetCompare();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestCase.OutputFile newInstance() {
+              return (noNamespace.TestCase.OutputFile) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestCase.OutputFile newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestCase.OutputFile) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.TestCase newInstance() {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.TestCase newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.TestCase parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.TestCase parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.TestCase parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.TestCase parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.TestCase parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.TestCase parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.TestCase parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.TestCase parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.TestCase parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.TestCase parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.TestCase parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.TestCase parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.TestCase parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.TestCase parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestCase parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestCase parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestCase) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,1193 @@
+/*
+ * An XML document type.
+ * Localname: test-suite
+ * Namespace: 
+ * Java type: noNamespace.TestSuiteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one test-suite(@) element.
+ *
+ * This is a complex type.
+ */
+public interface TestSuiteDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestSuiteDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testsuiteff36doctype");
+    
+    /**
+     * Gets the "test-suite" element
+     */
+    noNamespace.TestSuiteDocument.TestSuite getTestSuite();
+    
+    /**
+     * Sets the "test-suite" element
+     */
+    void setTestSuite(noNamespace.TestSuiteDocument.TestSuite testSuite);
+    
+    /**
+     * Appends and returns a new empty "test-suite" element
+     */
+    noNamespace.TestSuiteDocument.TestSuite addNewTestSuite();
+    
+    /**
+     * An XML test-suite(@).
+     *
+     * This is a complex type.
+     */
+    public interface TestSuite extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestSuite.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testsuite2b4delemtype");
+        
+        /**
+         * Gets the "citations" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Citations getCitations();
+        
+        /**
+         * Sets the "citations" element
+         */
+        void setCitations(noNamespace.TestSuiteDocument.TestSuite.Citations citations);
+        
+        /**
+         * Appends and returns a new empty "citations" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Citations addNewCitations();
+        
+        /**
+         * Gets the "comparisons" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Comparisons getComparisons();
+        
+        /**
+         * Sets the "comparisons" element
+         */
+        void setComparisons(noNamespace.TestSuiteDocument.TestSuite.Comparisons comparisons);
+        
+        /**
+         * Appends and returns a new empty "comparisons" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Comparisons addNewComparisons();
+        
+        /**
+         * Gets the "roles" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Roles getRoles();
+        
+        /**
+         * Sets the "roles" element
+         */
+        void setRoles(noNamespace.TestSuiteDocument.TestSuite.Roles roles);
+        
+        /**
+         * Appends and returns a new empty "roles" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Roles addNewRoles();
+        
+        /**
+         * Gets the "scenarios" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Scenarios getScenarios();
+        
+        /**
+         * Sets the "scenarios" element
+         */
+        void setScenarios(noNamespace.TestSuiteDocument.TestSuite.Scenarios scenarios);
+        
+        /**
+         * Appends and returns a new empty "scenarios" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Scenarios addNewScenarios();
+        
+        /**
+         * Gets the "sources" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Sources getSources();
+        
+        /**
+         * Sets the "sources" element
+         */
+        void setSources(noNamespace.TestSuiteDocument.TestSuite.Sources sources);
+        
+        /**
+         * Appends and returns a new empty "sources" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.Sources addNewSources();
+        
+        /**
+         * Gets array of all "test-group" elements
+         */
+        noNamespace.TestSuiteDocument.TestSuite.TestGroup[] getTestGroupArray();
+        
+        /**
+         * Gets ith "test-group" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.TestGroup getTestGroupArray(int i);
+        
+        /**
+         * Returns number of "test-group" element
+         */
+        int sizeOfTestGroupArray();
+        
+        /**
+         * Sets array of all "test-group" element
+         */
+        void setTestGroupArray(noNamespace.TestSuiteDocument.TestSuite.TestGroup[] testGroupArray);
+        
+        /**
+         * Sets ith "test-group" element
+         */
+        void setTestGroupArray(int i, noNamespace.TestSuiteDocument.TestSuite.TestGroup testGroup);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test-group" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.TestGroup insertNewTestGroup(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test-group" element
+         */
+        noNamespace.TestSuiteDocument.TestSuite.TestGroup addNewTestGroup();
+        
+        /**
+         * Removes the ith "test-group" element
+         */
+        void removeTestGroup(int i);
+        
+        /**
+         * Gets the "CatalogDesignDate" attribute
+         */
+        java.util.Calendar getCatalogDesignDate();
+        
+        /**
+         * Gets (as xml) the "CatalogDesignDate" attribute
+         */
+        org.apache.xmlbeans.XmlDate xgetCatalogDesignDate();
+        
+        /**
+         * True if has "CatalogDesignDate" attribute
+         */
+        boolean isSetCatalogDesignDate();
+        
+        /**
+         * Sets the "CatalogDesignDate" attribute
+         */
+        void setCatalogDesignDate(java.util.Calendar catalogDesignDate);
+        
+        /**
+         * Sets (as xml) the "CatalogDesignDate" attribute
+         */
+        void xsetCatalogDesignDate(org.apache.xmlbeans.XmlDate catalogDesignDate);
+        
+        /**
+         * Unsets the "CatalogDesignDate" attribute
+         */
+        void unsetCatalogDesignDate();
+        
+        /**
+         * An XML citations(@).
+         *
+         * This is a complex type.
+         */
+        public interface Citations extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Citations.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("citationsfa35elemtype");
+            
+            /**
+             * Gets array of all "citation-spec" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[] getCitationSpecArray();
+            
+            /**
+             * Gets ith "citation-spec" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec getCitationSpecArray(int i);
+            
+            /**
+             * Returns number of "citation-spec" element
+             */
+            int sizeOfCitationSpecArray();
+            
+            /**
+             * Sets array of all "citation-spec" element
+             */
+            void setCitationSpecArray(noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[] citationSpecArray);
+            
+            /**
+             * Sets ith "citation-spec" element
+             */
+            void setCitationSpecArray(int i, noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec citationSpec);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "citation-spec" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec insertNewCitationSpec(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "citation-spec" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec addNewCitationSpec();
+            
+            /**
+             * Removes the ith "citation-spec" element
+             */
+            void removeCitationSpec(int i);
+            
+            /**
+             * Gets array of all "citation-type" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[] getCitationTypeArray();
+            
+            /**
+             * Gets ith "citation-type" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType getCitationTypeArray(int i);
+            
+            /**
+             * Returns number of "citation-type" element
+             */
+            int sizeOfCitationTypeArray();
+            
+            /**
+             * Sets array of all "citation-type" element
+             */
+            void setCitationTypeArray(noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[] citationTypeArray);
+            
+            /**
+             * Sets ith "citation-type" element
+             */
+            void setCitationTypeArray(int i, noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType citationType);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "citation-type" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType insertNewCitationType(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "citation-type" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType addNewCitationType();
+            
+            /**
+             * Removes the ith "citation-type" element
+             */
+            void removeCitationType(int i);
+            
+            /**
+             * An XML citation-spec(@).
+             *
+             * This is a complex type.
+             */
+            public interface CitationSpec extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CitationSpec.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("citationspec25d2elemtype");
+                
+                /**
+                 * Gets the "spec-URI" element
+                 */
+                java.lang.String getSpecURI();
+                
+                /**
+                 * Gets (as xml) the "spec-URI" element
+                 */
+                org.apache.xmlbeans.XmlAnyURI xgetSpecURI();
+                
+                /**
+                 * Sets the "spec-URI" element
+                 */
+                void setSpecURI(java.lang.String specURI);
+                
+                /**
+                 * Sets (as xml) the "spec-URI" element
+                 */
+                void xsetSpecURI(org.apache.xmlbeans.XmlAnyURI specURI);
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                noNamespace.CitationSpecEnum.Enum getName();
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                noNamespace.CitationSpecEnum xgetName();
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                boolean isSetName();
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                void setName(noNamespace.CitationSpecEnum.Enum name);
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                void xsetName(noNamespace.CitationSpecEnum name);
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                void unsetName();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML citation-type(@).
+             *
+             * This is a complex type.
+             */
+            public interface CitationType extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CitationType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("citationtype2611elemtype");
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                noNamespace.CitationTypeEnum.Enum getName();
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                noNamespace.CitationTypeEnum xgetName();
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                boolean isSetName();
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                void setName(noNamespace.CitationTypeEnum.Enum name);
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                void xsetName(noNamespace.CitationTypeEnum name);
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                void unsetName();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.Citations newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Citations) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.Citations newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Citations) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML comparisons(@).
+         *
+         * This is a complex type.
+         */
+        public interface Comparisons extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Comparisons.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("comparisons35d3elemtype");
+            
+            /**
+             * Gets array of all "comparison" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[] getComparisonArray();
+            
+            /**
+             * Gets ith "comparison" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison getComparisonArray(int i);
+            
+            /**
+             * Returns number of "comparison" element
+             */
+            int sizeOfComparisonArray();
+            
+            /**
+             * Sets array of all "comparison" element
+             */
+            void setComparisonArray(noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[] comparisonArray);
+            
+            /**
+             * Sets ith "comparison" element
+             */
+            void setComparisonArray(int i, noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison comparison);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "comparison" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison insertNewComparison(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "comparison" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison addNewComparison();
+            
+            /**
+             * Removes the ith "comparison" element
+             */
+            void removeComparison(int i);
+            
+            /**
+             * An XML comparison(@).
+             *
+             * This is a complex type.
+             */
+            public interface Comparison extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Comparison.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("comparisona968elemtype");
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                noNamespace.ComparisonEnum.Enum getName();
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                noNamespace.ComparisonEnum xgetName();
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                boolean isSetName();
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                void setName(noNamespace.ComparisonEnum.Enum name);
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                void xsetName(noNamespace.ComparisonEnum name);
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                void unsetName();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.Comparisons newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Comparisons) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.Comparisons newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Comparisons) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML roles(@).
+         *
+         * This is a complex type.
+         */
+        public interface Roles extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Roles.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("roles7f46elemtype");
+            
+            /**
+             * Gets array of all "role" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Roles.Role[] getRoleArray();
+            
+            /**
+             * Gets ith "role" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Roles.Role getRoleArray(int i);
+            
+            /**
+             * Returns number of "role" element
+             */
+            int sizeOfRoleArray();
+            
+            /**
+             * Sets array of all "role" element
+             */
+            void setRoleArray(noNamespace.TestSuiteDocument.TestSuite.Roles.Role[] roleArray);
+            
+            /**
+             * Sets ith "role" element
+             */
+            void setRoleArray(int i, noNamespace.TestSuiteDocument.TestSuite.Roles.Role role);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "role" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Roles.Role insertNewRole(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "role" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Roles.Role addNewRole();
+            
+            /**
+             * Removes the ith "role" element
+             */
+            void removeRole(int i);
+            
+            /**
+             * An XML role(@).
+             *
+             * This is a complex type.
+             */
+            public interface Role extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Role.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("role45c8elemtype");
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                noNamespace.RoleEnum.Enum getName();
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                noNamespace.RoleEnum xgetName();
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                boolean isSetName();
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                void setName(noNamespace.RoleEnum.Enum name);
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                void xsetName(noNamespace.RoleEnum name);
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                void unsetName();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Roles.Role newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Roles.Role) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Roles.Role newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Roles.Role) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.Roles newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Roles) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.Roles newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Roles) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML scenarios(@).
+         *
+         * This is a complex type.
+         */
+        public interface Scenarios extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Scenarios.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("scenarios6fecelemtype");
+            
+            /**
+             * Gets array of all "scenario" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[] getScenarioArray();
+            
+            /**
+             * Gets ith "scenario" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario getScenarioArray(int i);
+            
+            /**
+             * Returns number of "scenario" element
+             */
+            int sizeOfScenarioArray();
+            
+            /**
+             * Sets array of all "scenario" element
+             */
+            void setScenarioArray(noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[] scenarioArray);
+            
+            /**
+             * Sets ith "scenario" element
+             */
+            void setScenarioArray(int i, noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario scenario);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "scenario" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario insertNewScenario(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "scenario" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario addNewScenario();
+            
+            /**
+             * Removes the ith "scenario" element
+             */
+            void removeScenario(int i);
+            
+            /**
+             * An XML scenario(@).
+             *
+             * This is a complex type.
+             */
+            public interface Scenario extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Scenario.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("scenario7108elemtype");
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                noNamespace.ScenariosEnum.Enum getName();
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                noNamespace.ScenariosEnum xgetName();
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                boolean isSetName();
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                void setName(noNamespace.ScenariosEnum.Enum name);
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                void xsetName(noNamespace.ScenariosEnum name);
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                void unsetName();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.Scenarios newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Scenarios) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.Scenarios newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Scenarios) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML sources(@).
+         *
+         * This is a complex type.
+         */
+        public interface Sources extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Sources.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("sourcesba81elemtype");
+            
+            /**
+             * Gets array of all "source" elements
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Sources.Source[] getSourceArray();
+            
+            /**
+             * Gets ith "source" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Sources.Source getSourceArray(int i);
+            
+            /**
+             * Returns number of "source" element
+             */
+            int sizeOfSourceArray();
+            
+            /**
+             * Sets array of all "source" element
+             */
+            void setSourceArray(noNamespace.TestSuiteDocument.TestSuite.Sources.Source[] sourceArray);
+            
+            /**
+             * Sets ith "source" element
+             */
+            void setSourceArray(int i, noNamespace.TestSuiteDocument.TestSuite.Sources.Source source);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "source" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Sources.Source insertNewSource(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "source" element
+             */
+            noNamespace.TestSuiteDocument.TestSuite.Sources.Source addNewSource();
+            
+            /**
+             * Removes the ith "source" element
+             */
+            void removeSource(int i);
+            
+            /**
+             * An XML source(@).
+             *
+             * This is a complex type.
+             */
+            public interface Source extends noNamespace.InfoBase
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Source.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("source1fa8elemtype");
+                
+                /**
+                 * Gets the "ID" attribute
+                 */
+                java.lang.String getID();
+                
+                /**
+                 * Gets (as xml) the "ID" attribute
+                 */
+                org.apache.xmlbeans.XmlID xgetID();
+                
+                /**
+                 * True if has "ID" attribute
+                 */
+                boolean isSetID();
+                
+                /**
+                 * Sets the "ID" attribute
+                 */
+                void setID(java.lang.String id);
+                
+                /**
+                 * Sets (as xml) the "ID" attribute
+                 */
+                void xsetID(org.apache.xmlbeans.XmlID id);
+                
+                /**
+                 * Unsets the "ID" attribute
+                 */
+                void unsetID();
+                
+                /**
+                 * Gets the "FileName" attribute
+                 */
+                java.lang.String getFileName();
+                
+                /**
+                 * Gets (as xml) the "FileName" attribute
+                 */
+                org.apache.xmlbeans.XmlAnyURI xgetFileName();
+                
+                /**
+                 * True if has "FileName" attribute
+                 */
+                boolean isSetFileName();
+                
+                /**
+                 * Sets the "FileName" attribute
+                 */
+                void setFileName(java.lang.String fileName);
+                
+                /**
+                 * Sets (as xml) the "FileName" attribute
+                 */
+                void xsetFileName(org.apache.xmlbeans.XmlAnyURI fileName);
+                
+                /**
+                 * Unsets the "FileName" attribute
+                 */
+                void unsetFileName();
+                
+                /**
+                 * Gets the "Creator" attribute
+                 */
+                java.lang.String getCreator();
+                
+                /**
+                 * Gets (as xml) the "Creator" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetCreator();
+                
+                /**
+                 * True if has "Creator" attribute
+                 */
+                boolean isSetCreator();
+                
+                /**
+                 * Sets the "Creator" attribute
+                 */
+                void setCreator(java.lang.String creator);
+                
+                /**
+                 * Sets (as xml) the "Creator" attribute
+                 */
+                void xsetCreator(org.apache.xmlbeans.XmlString creator);
+                
+                /**
+                 * Unsets the "Creator" attribute
+                 */
+                void unsetCreator();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static noNamespace.TestSuiteDocument.TestSuite.Sources.Source newInstance() {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Sources.Source) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static noNamespace.TestSuiteDocument.TestSuite.Sources.Source newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (noNamespace.TestSuiteDocument.TestSuite.Sources.Source) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.Sources newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Sources) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.Sources newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.Sources) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML test-group(@).
+         *
+         * This is a complex type.
+         */
+        public interface TestGroup extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestGroup.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testgroup515delemtype");
+            
+            /**
+             * Gets the "GroupInfo" element
+             */
+            noNamespace.GroupInfo getGroupInfo();
+            
+            /**
+             * Sets the "GroupInfo" element
+             */
+            void setGroupInfo(noNamespace.GroupInfo groupInfo);
+            
+            /**
+             * Appends and returns a new empty "GroupInfo" element
+             */
+            noNamespace.GroupInfo addNewGroupInfo();
+            
+            /**
+             * Gets array of all "test-case" elements
+             */
+            noNamespace.TestCase[] getTestCaseArray();
+            
+            /**
+             * Gets ith "test-case" element
+             */
+            noNamespace.TestCase getTestCaseArray(int i);
+            
+            /**
+             * Returns number of "test-case" element
+             */
+            int sizeOfTestCaseArray();
+            
+            /**
+             * Sets array of all "test-case" element
+             */
+            void setTestCaseArray(noNamespace.TestCase[] testCaseArray);
+            
+            /**
+             * Sets ith "test-case" element
+             */
+            void setTestCaseArray(int i, noNamespace.TestCase testCase);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "test-case" element
+             */
+            noNamespace.TestCase insertNewTestCase(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "test-case" element
+             */
+            noNamespace.TestCase addNewTestCase();
+            
+            /**
+             * Removes the ith "test-case" element
+             */
+            void removeTestCase(int i);
+            
+            /**
+             * Gets the "name" attribute
+             */
+            java.lang.String getName();
+            
+            /**
+             * Gets (as xml) the "name" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetName();
+            
+            /**
+             * True if has "name" attribute
+             */
+            boolean isSetName();
+            
+            /**
+             * Sets the "name" attribute
+             */
+            void setName(java.lang.String name);
+            
+            /**
+             * Sets (as xml) the "name" attribute
+             */
+            void xsetName(org.apache.xmlbeans.XmlString name);
+            
+            /**
+             * Unsets the "name" attribute
+             */
+            void unsetName();
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static noNamespace.TestSuiteDocument.TestSuite.TestGroup newInstance() {
+                  return (noNamespace.TestSuiteDocument.TestSuite.TestGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static noNamespace.TestSuiteDocument.TestSuite.TestGroup newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (noNamespace.TestSuiteDocument.TestSuite.TestGroup) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TestSuiteDocument.TestSuite newInstance() {
+              return (noNamespace.TestSuiteDocument.TestSuite) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TestSuiteDocument.TestSuite newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TestSuiteDocument.TestSuite) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.TestSuiteDocument newInstance() {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.TestSuiteDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.TestSuiteDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.TestSuiteDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.TestSuiteDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.TestSuiteDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.TestSuiteDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestSuiteDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TestSuiteDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TestSuiteDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * An XML document type.
+ * Localname: canBeNil
+ * Namespace: 
+ * Java type: noNamespace.CanBeNilDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one canBeNil(@) element.
+ *
+ * This is a complex type.
+ */
+public class CanBeNilDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.CanBeNilDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CanBeNilDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CANBENIL$0 = 
+        new javax.xml.namespace.QName("", "canBeNil");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -153678626:
+                if (name.equals(CANBENIL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "canBeNil" element
+     */
+    public noNamespace.CanBeNilDocument.CanBeNil getCanBeNil()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.CanBeNilDocument.CanBeNil target = null;
+            target = (noNamespace.CanBeNilDocument.CanBeNil)get_store().find_element_user(CANBENIL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "canBeNil" element
+     */
+    public boolean isNilCanBeNil()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.CanBeNilDocument.CanBeNil target = null;
+            target = (noNamespace.CanBeNilDocument.CanBeNil)get_store().find_element_user(CANBENIL$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "canBeNil" element
+     */
+    public void setCanBeNil(noNamespace.CanBeNilDocument.CanBeNil canBeNil)
+    {
+        generatedSetterHelperImpl(canBeNil, CANBENIL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "canBeNil" element
+     */
+    public noNamespace.CanBeNilDocument.CanBeNil addNewCanBeNil()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.CanBeNilDocument.CanBeNil target = null;
+            target = (noNamespace.CanBeNilDocument.CanBeNil)get_store().add_element_user(CANBENIL$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Nils the "canBeNil" element
+     */
+    public void setNilCanBeNil()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.CanBeNilDocument.CanBeNil target = null;
+            target = (noNamespace.CanBeNilDocument.CanBeNil)get_store().find_element_user(CANBENIL$0, 0);
+            if (target == null)
+            {
+                target = (noNamespace.CanBeNilDocument.CanBeNil)get_store().add_element_user(CANBENIL$0);
+            }
+            target.setNil();
+        }
+    }
+    /**
+     * An XML canBeNil(@).
+     *
+     * This is a complex type.
+     */
+    public static class CanBeNilImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.CanBeNilDocument.CanBeNil
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CanBeNilImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  citation-spec-enum
+ * Namespace: 
+ * Java type: noNamespace.CitationSpecEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML citation-spec-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.CitationSpecEnum.
+ */
+public class CitationSpecEnumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.CitationSpecEnum
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CitationSpecEnumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CitationSpecEnumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  citation-type-enum
+ * Namespace: 
+ * Java type: noNamespace.CitationTypeEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML citation-type-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.CitationTypeEnum.
+ */
+public class CitationTypeEnumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.CitationTypeEnum
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CitationTypeEnumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CitationTypeEnumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  comparison-enum
+ * Namespace: 
+ * Java type: noNamespace.ComparisonEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML comparison-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.ComparisonEnum.
+ */
+public class ComparisonEnumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.ComparisonEnum
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ComparisonEnumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ComparisonEnumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * XML Type:  description
+ * Namespace: 
+ * Java type: noNamespace.Description
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML description(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.Description.
+ */
+public class DescriptionImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements noNamespace.Description
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DescriptionImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected DescriptionImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName LASTMOD$0 = 
+        new javax.xml.namespace.QName("", "last-mod");
+    
+    
+    /**
+     * Gets the "last-mod" attribute
+     */
+    public java.util.Calendar getLastMod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LASTMOD$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "last-mod" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetLastMod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(LASTMOD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "last-mod" attribute
+     */
+    public boolean isSetLastMod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LASTMOD$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "last-mod" attribute
+     */
+    public void setLastMod(java.util.Calendar lastMod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LASTMOD$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LASTMOD$0);
+            }
+            target.setCalendarValue(lastMod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "last-mod" attribute
+     */
+    public void xsetLastMod(org.apache.xmlbeans.XmlDate lastMod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(LASTMOD$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(LASTMOD$0);
+            }
+            target.set(lastMod);
+        }
+    }
+    
+    /**
+     * Unsets the "last-mod" attribute
+     */
+    public void unsetLastMod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LASTMOD$0);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * XML Type:  GroupInfo
+ * Namespace: 
+ * Java type: noNamespace.GroupInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML GroupInfo(@).
+ *
+ * This is a complex type.
+ */
+public class GroupInfoImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.GroupInfo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GroupInfoImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TITLE$0 = 
+        new javax.xml.namespace.QName("", "title");
+    private static final javax.xml.namespace.QName DESCRIPTION$2 = 
+        new javax.xml.namespace.QName("", "description");
+    private static final javax.xml.namespace.QName NOTE$4 = 
+        new javax.xml.namespace.QName("", "note");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 3387378:
+                if (name.equals(NOTE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 110371416:
+                if (name.equals(TITLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "title" element
+     */
+    public java.lang.String getTitle()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TITLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "title" element
+     */
+    public org.apache.xmlbeans.XmlString xgetTitle()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TITLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "title" element
+     */
+    public void setTitle(java.lang.String title)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TITLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TITLE$0);
+            }
+            target.setStringValue(title);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "title" element
+     */
+    public void xsetTitle(org.apache.xmlbeans.XmlString title)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TITLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(TITLE$0);
+            }
+            target.set(title);
+        }
+    }
+    
+    /**
+     * Gets the "description" element
+     */
+    public noNamespace.Description getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().find_element_user(DESCRIPTION$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(noNamespace.Description description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public noNamespace.Description addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().add_element_user(DESCRIPTION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "note" elements
+     */
+    public java.lang.String[] getNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$4, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "note" element
+     */
+    public java.lang.String getNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "note" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$4, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString xgetNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "note" element
+     */
+    public int sizeOfNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NOTE$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "note" element
+     */
+    public void setNoteArray(java.lang.String[] noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$4);
+        }
+    }
+    
+    /**
+     * Sets ith "note" element
+     */
+    public void setNoteArray(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "note" element
+     */
+    public void xsetNoteArray(org.apache.xmlbeans.XmlString[]noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "note" element
+     */
+    public void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(note);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "note" element
+     */
+    public void insertNote(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NOTE$4, i);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "note" element
+     */
+    public void addNote(java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NOTE$4);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(NOTE$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "note" element
+     */
+    public org.apache.xmlbeans.XmlString addNewNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NOTE$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "note" element
+     */
+    public void removeNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NOTE$4, i);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * XML Type:  infoBase
+ * Namespace: 
+ * Java type: noNamespace.InfoBase
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML infoBase(@).
+ *
+ * This is a complex type.
+ */
+public class InfoBaseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.InfoBase
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InfoBaseImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("", "description");
+    private static final javax.xml.namespace.QName NOTE$2 = 
+        new javax.xml.namespace.QName("", "note");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 3387378:
+                if (name.equals(NOTE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "description" element
+     */
+    public noNamespace.Description getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().find_element_user(DESCRIPTION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(noNamespace.Description description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public noNamespace.Description addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "note" elements
+     */
+    public java.lang.String[] getNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$2, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "note" element
+     */
+    public java.lang.String getNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "note" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$2, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString xgetNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "note" element
+     */
+    public int sizeOfNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "note" element
+     */
+    public void setNoteArray(java.lang.String[] noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets ith "note" element
+     */
+    public void setNoteArray(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "note" element
+     */
+    public void xsetNoteArray(org.apache.xmlbeans.XmlString[]noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "note" element
+     */
+    public void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(note);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "note" element
+     */
+    public void insertNote(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NOTE$2, i);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "note" element
+     */
+    public void addNote(java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NOTE$2);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(NOTE$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "note" element
+     */
+    public org.apache.xmlbeans.XmlString addNewNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NOTE$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "note" element
+     */
+    public void removeNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NOTE$2, i);
+        }
+    }
+}
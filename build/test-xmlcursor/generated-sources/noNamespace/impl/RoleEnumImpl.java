@@ -0,0 +1,27 @@
+/*
+ * XML Type:  role-enum
+ * Namespace: 
+ * Java type: noNamespace.RoleEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML role-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.RoleEnum.
+ */
+public class RoleEnumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.RoleEnum
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RoleEnumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected RoleEnumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  scenarios-enum
+ * Namespace: 
+ * Java type: noNamespace.ScenariosEnum
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML scenarios-enum(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.ScenariosEnum.
+ */
+public class ScenariosEnumImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.ScenariosEnum
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ScenariosEnumImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ScenariosEnumImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,2428 @@
+/*
+ * XML Type:  test-case
+ * Namespace: 
+ * Java type: noNamespace.TestCase
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML test-case(@).
+ *
+ * This is a complex type.
+ */
+public class TestCaseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestCase
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestCaseImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("", "description");
+    private static final javax.xml.namespace.QName NOTE$2 = 
+        new javax.xml.namespace.QName("", "note");
+    private static final javax.xml.namespace.QName SPECCITATION$4 = 
+        new javax.xml.namespace.QName("", "spec-citation");
+    private static final javax.xml.namespace.QName QUERY$6 = 
+        new javax.xml.namespace.QName("", "query");
+    private static final javax.xml.namespace.QName INPUTFILE$8 = 
+        new javax.xml.namespace.QName("", "input-file");
+    private static final javax.xml.namespace.QName OUTPUTFILE$10 = 
+        new javax.xml.namespace.QName("", "output-file");
+    private static final javax.xml.namespace.QName NAME$12 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName FILEPATH$14 = 
+        new javax.xml.namespace.QName("", "FilePath");
+    private static final javax.xml.namespace.QName SCENARIO$16 = 
+        new javax.xml.namespace.QName("", "scenario");
+    private static final javax.xml.namespace.QName CREATOR$18 = 
+        new javax.xml.namespace.QName("", "Creator");
+    private static final javax.xml.namespace.QName VERSIONDROP$20 = 
+        new javax.xml.namespace.QName("", "version-drop");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -871008568:
+                if (name.equals(OUTPUTFILE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case 3387378:
+                if (name.equals(NOTE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 107944136:
+                if (name.equals(QUERY$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1340083615:
+                if (name.equals(INPUTFILE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1933514937:
+                if (name.equals(SPECCITATION$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "description" element
+     */
+    public noNamespace.Description getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().find_element_user(DESCRIPTION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(noNamespace.Description description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public noNamespace.Description addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Description target = null;
+            target = (noNamespace.Description)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "note" elements
+     */
+    public java.lang.String[] getNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$2, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "note" element
+     */
+    public java.lang.String getNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "note" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NOTE$2, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString xgetNoteArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "note" element
+     */
+    public int sizeOfNoteArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "note" element
+     */
+    public void setNoteArray(java.lang.String[] noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets ith "note" element
+     */
+    public void setNoteArray(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "note" element
+     */
+    public void xsetNoteArray(org.apache.xmlbeans.XmlString[]noteArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(noteArray, NOTE$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "note" element
+     */
+    public void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(note);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "note" element
+     */
+    public void insertNote(int i, java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NOTE$2, i);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "note" element
+     */
+    public void addNote(java.lang.String note)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NOTE$2);
+            target.setStringValue(note);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "note" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(NOTE$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "note" element
+     */
+    public org.apache.xmlbeans.XmlString addNewNote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NOTE$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "note" element
+     */
+    public void removeNote(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NOTE$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "spec-citation" elements
+     */
+    public noNamespace.TestCase.SpecCitation[] getSpecCitationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SPECCITATION$4, targetList);
+            noNamespace.TestCase.SpecCitation[] result = new noNamespace.TestCase.SpecCitation[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "spec-citation" element
+     */
+    public noNamespace.TestCase.SpecCitation getSpecCitationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.SpecCitation target = null;
+            target = (noNamespace.TestCase.SpecCitation)get_store().find_element_user(SPECCITATION$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "spec-citation" element
+     */
+    public int sizeOfSpecCitationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SPECCITATION$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "spec-citation" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSpecCitationArray(noNamespace.TestCase.SpecCitation[] specCitationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(specCitationArray, SPECCITATION$4);
+    }
+    
+    /**
+     * Sets ith "spec-citation" element
+     */
+    public void setSpecCitationArray(int i, noNamespace.TestCase.SpecCitation specCitation)
+    {
+        generatedSetterHelperImpl(specCitation, SPECCITATION$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "spec-citation" element
+     */
+    public noNamespace.TestCase.SpecCitation insertNewSpecCitation(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.SpecCitation target = null;
+            target = (noNamespace.TestCase.SpecCitation)get_store().insert_element_user(SPECCITATION$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "spec-citation" element
+     */
+    public noNamespace.TestCase.SpecCitation addNewSpecCitation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.SpecCitation target = null;
+            target = (noNamespace.TestCase.SpecCitation)get_store().add_element_user(SPECCITATION$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "spec-citation" element
+     */
+    public void removeSpecCitation(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SPECCITATION$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "query" element
+     */
+    public noNamespace.TestCase.Query getQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.Query target = null;
+            target = (noNamespace.TestCase.Query)get_store().find_element_user(QUERY$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "query" element
+     */
+    public void setQuery(noNamespace.TestCase.Query query)
+    {
+        generatedSetterHelperImpl(query, QUERY$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "query" element
+     */
+    public noNamespace.TestCase.Query addNewQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.Query target = null;
+            target = (noNamespace.TestCase.Query)get_store().add_element_user(QUERY$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "input-file" elements
+     */
+    public noNamespace.TestCase.InputFile[] getInputFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INPUTFILE$8, targetList);
+            noNamespace.TestCase.InputFile[] result = new noNamespace.TestCase.InputFile[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "input-file" element
+     */
+    public noNamespace.TestCase.InputFile getInputFileArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.InputFile target = null;
+            target = (noNamespace.TestCase.InputFile)get_store().find_element_user(INPUTFILE$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "input-file" element
+     */
+    public int sizeOfInputFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INPUTFILE$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "input-file" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setInputFileArray(noNamespace.TestCase.InputFile[] inputFileArray)
+    {
+        check_orphaned();
+        arraySetterHelper(inputFileArray, INPUTFILE$8);
+    }
+    
+    /**
+     * Sets ith "input-file" element
+     */
+    public void setInputFileArray(int i, noNamespace.TestCase.InputFile inputFile)
+    {
+        generatedSetterHelperImpl(inputFile, INPUTFILE$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "input-file" element
+     */
+    public noNamespace.TestCase.InputFile insertNewInputFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.InputFile target = null;
+            target = (noNamespace.TestCase.InputFile)get_store().insert_element_user(INPUTFILE$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "input-file" element
+     */
+    public noNamespace.TestCase.InputFile addNewInputFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.InputFile target = null;
+            target = (noNamespace.TestCase.InputFile)get_store().add_element_user(INPUTFILE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "input-file" element
+     */
+    public void removeInputFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INPUTFILE$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "output-file" elements
+     */
+    public noNamespace.TestCase.OutputFile[] getOutputFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(OUTPUTFILE$10, targetList);
+            noNamespace.TestCase.OutputFile[] result = new noNamespace.TestCase.OutputFile[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "output-file" element
+     */
+    public noNamespace.TestCase.OutputFile getOutputFileArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.OutputFile target = null;
+            target = (noNamespace.TestCase.OutputFile)get_store().find_element_user(OUTPUTFILE$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "output-file" element
+     */
+    public int sizeOfOutputFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(OUTPUTFILE$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "output-file" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setOutputFileArray(noNamespace.TestCase.OutputFile[] outputFileArray)
+    {
+        check_orphaned();
+        arraySetterHelper(outputFileArray, OUTPUTFILE$10);
+    }
+    
+    /**
+     * Sets ith "output-file" element
+     */
+    public void setOutputFileArray(int i, noNamespace.TestCase.OutputFile outputFile)
+    {
+        generatedSetterHelperImpl(outputFile, OUTPUTFILE$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "output-file" element
+     */
+    public noNamespace.TestCase.OutputFile insertNewOutputFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.OutputFile target = null;
+            target = (noNamespace.TestCase.OutputFile)get_store().insert_element_user(OUTPUTFILE$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "output-file" element
+     */
+    public noNamespace.TestCase.OutputFile addNewOutputFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestCase.OutputFile target = null;
+            target = (noNamespace.TestCase.OutputFile)get_store().add_element_user(OUTPUTFILE$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "output-file" element
+     */
+    public void removeOutputFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(OUTPUTFILE$10, i);
+        }
+    }
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$12);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$12);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" attribute
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAME$12) != null;
+        }
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$12);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$12);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAME$12);
+        }
+    }
+    
+    /**
+     * Gets the "FilePath" attribute
+     */
+    public java.lang.String getFilePath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILEPATH$14);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "FilePath" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetFilePath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FILEPATH$14);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "FilePath" attribute
+     */
+    public boolean isSetFilePath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(FILEPATH$14) != null;
+        }
+    }
+    
+    /**
+     * Sets the "FilePath" attribute
+     */
+    public void setFilePath(java.lang.String filePath)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILEPATH$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FILEPATH$14);
+            }
+            target.setStringValue(filePath);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "FilePath" attribute
+     */
+    public void xsetFilePath(org.apache.xmlbeans.XmlAnyURI filePath)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FILEPATH$14);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(FILEPATH$14);
+            }
+            target.set(filePath);
+        }
+    }
+    
+    /**
+     * Unsets the "FilePath" attribute
+     */
+    public void unsetFilePath()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(FILEPATH$14);
+        }
+    }
+    
+    /**
+     * Gets the "scenario" attribute
+     */
+    public noNamespace.ScenariosEnum.Enum getScenario()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SCENARIO$16);
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.ScenariosEnum.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "scenario" attribute
+     */
+    public noNamespace.ScenariosEnum xgetScenario()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ScenariosEnum target = null;
+            target = (noNamespace.ScenariosEnum)get_store().find_attribute_user(SCENARIO$16);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "scenario" attribute
+     */
+    public boolean isSetScenario()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(SCENARIO$16) != null;
+        }
+    }
+    
+    /**
+     * Sets the "scenario" attribute
+     */
+    public void setScenario(noNamespace.ScenariosEnum.Enum scenario)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SCENARIO$16);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SCENARIO$16);
+            }
+            target.setEnumValue(scenario);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "scenario" attribute
+     */
+    public void xsetScenario(noNamespace.ScenariosEnum scenario)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ScenariosEnum target = null;
+            target = (noNamespace.ScenariosEnum)get_store().find_attribute_user(SCENARIO$16);
+            if (target == null)
+            {
+                target = (noNamespace.ScenariosEnum)get_store().add_attribute_user(SCENARIO$16);
+            }
+            target.set(scenario);
+        }
+    }
+    
+    /**
+     * Unsets the "scenario" attribute
+     */
+    public void unsetScenario()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(SCENARIO$16);
+        }
+    }
+    
+    /**
+     * Gets the "Creator" attribute
+     */
+    public java.lang.String getCreator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CREATOR$18);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "Creator" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetCreator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CREATOR$18);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "Creator" attribute
+     */
+    public boolean isSetCreator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(CREATOR$18) != null;
+        }
+    }
+    
+    /**
+     * Sets the "Creator" attribute
+     */
+    public void setCreator(java.lang.String creator)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CREATOR$18);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CREATOR$18);
+            }
+            target.setStringValue(creator);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "Creator" attribute
+     */
+    public void xsetCreator(org.apache.xmlbeans.XmlString creator)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CREATOR$18);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(CREATOR$18);
+            }
+            target.set(creator);
+        }
+    }
+    
+    /**
+     * Unsets the "Creator" attribute
+     */
+    public void unsetCreator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(CREATOR$18);
+        }
+    }
+    
+    /**
+     * Gets the "version-drop" attribute
+     */
+    public java.util.Calendar getVersionDrop()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSIONDROP$20);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version-drop" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetVersionDrop()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSIONDROP$20);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "version-drop" attribute
+     */
+    public boolean isSetVersionDrop()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(VERSIONDROP$20) != null;
+        }
+    }
+    
+    /**
+     * Sets the "version-drop" attribute
+     */
+    public void setVersionDrop(java.util.Calendar versionDrop)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSIONDROP$20);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSIONDROP$20);
+            }
+            target.setCalendarValue(versionDrop);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version-drop" attribute
+     */
+    public void xsetVersionDrop(org.apache.xmlbeans.XmlDate versionDrop)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSIONDROP$20);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(VERSIONDROP$20);
+            }
+            target.set(versionDrop);
+        }
+    }
+    
+    /**
+     * Unsets the "version-drop" attribute
+     */
+    public void unsetVersionDrop()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(VERSIONDROP$20);
+        }
+    }
+    /**
+     * An XML spec-citation(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$SpecCitation.
+     */
+    public static class SpecCitationImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements noNamespace.TestCase.SpecCitation
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public SpecCitationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected SpecCitationImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName TYPE$0 = 
+            new javax.xml.namespace.QName("", "type");
+        private static final javax.xml.namespace.QName PLACE$2 = 
+            new javax.xml.namespace.QName("", "place");
+        private static final javax.xml.namespace.QName SPEC$4 = 
+            new javax.xml.namespace.QName("", "spec");
+        private static final javax.xml.namespace.QName VERSION$6 = 
+            new javax.xml.namespace.QName("", "version");
+        private static final javax.xml.namespace.QName VERSIONDROP$8 = 
+            new javax.xml.namespace.QName("", "version-drop");
+        
+        
+        /**
+         * Gets the "type" attribute
+         */
+        public noNamespace.CitationTypeEnum.Enum getType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.CitationTypeEnum.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "type" attribute
+         */
+        public noNamespace.CitationTypeEnum xgetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.CitationTypeEnum target = null;
+                target = (noNamespace.CitationTypeEnum)get_store().find_attribute_user(TYPE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "type" attribute
+         */
+        public boolean isSetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TYPE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "type" attribute
+         */
+        public void setType(noNamespace.CitationTypeEnum.Enum type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TYPE$0);
+                }
+                target.setEnumValue(type);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "type" attribute
+         */
+        public void xsetType(noNamespace.CitationTypeEnum type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.CitationTypeEnum target = null;
+                target = (noNamespace.CitationTypeEnum)get_store().find_attribute_user(TYPE$0);
+                if (target == null)
+                {
+                    target = (noNamespace.CitationTypeEnum)get_store().add_attribute_user(TYPE$0);
+                }
+                target.set(type);
+            }
+        }
+        
+        /**
+         * Unsets the "type" attribute
+         */
+        public void unsetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TYPE$0);
+            }
+        }
+        
+        /**
+         * Gets the "place" attribute
+         */
+        public java.lang.String getPlace()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PLACE$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "place" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetPlace()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(PLACE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "place" attribute
+         */
+        public boolean isSetPlace()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(PLACE$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "place" attribute
+         */
+        public void setPlace(java.lang.String place)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PLACE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PLACE$2);
+                }
+                target.setStringValue(place);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "place" attribute
+         */
+        public void xsetPlace(org.apache.xmlbeans.XmlString place)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(PLACE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(PLACE$2);
+                }
+                target.set(place);
+            }
+        }
+        
+        /**
+         * Unsets the "place" attribute
+         */
+        public void unsetPlace()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(PLACE$2);
+            }
+        }
+        
+        /**
+         * Gets the "spec" attribute
+         */
+        public noNamespace.CitationSpecEnum.Enum getSpec()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SPEC$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.CitationSpecEnum.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "spec" attribute
+         */
+        public noNamespace.CitationSpecEnum xgetSpec()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.CitationSpecEnum target = null;
+                target = (noNamespace.CitationSpecEnum)get_store().find_attribute_user(SPEC$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "spec" attribute
+         */
+        public boolean isSetSpec()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(SPEC$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "spec" attribute
+         */
+        public void setSpec(noNamespace.CitationSpecEnum.Enum spec)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SPEC$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SPEC$4);
+                }
+                target.setEnumValue(spec);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "spec" attribute
+         */
+        public void xsetSpec(noNamespace.CitationSpecEnum spec)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.CitationSpecEnum target = null;
+                target = (noNamespace.CitationSpecEnum)get_store().find_attribute_user(SPEC$4);
+                if (target == null)
+                {
+                    target = (noNamespace.CitationSpecEnum)get_store().add_attribute_user(SPEC$4);
+                }
+                target.set(spec);
+            }
+        }
+        
+        /**
+         * Unsets the "spec" attribute
+         */
+        public void unsetSpec()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(SPEC$4);
+            }
+        }
+        
+        /**
+         * Gets the "version" attribute
+         */
+        public java.util.Calendar getVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$6);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "version" attribute
+         */
+        public org.apache.xmlbeans.XmlDate xgetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSION$6);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "version" attribute
+         */
+        public boolean isSetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(VERSION$6) != null;
+            }
+        }
+        
+        /**
+         * Sets the "version" attribute
+         */
+        public void setVersion(java.util.Calendar version)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$6);
+                }
+                target.setCalendarValue(version);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "version" attribute
+         */
+        public void xsetVersion(org.apache.xmlbeans.XmlDate version)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSION$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(VERSION$6);
+                }
+                target.set(version);
+            }
+        }
+        
+        /**
+         * Unsets the "version" attribute
+         */
+        public void unsetVersion()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(VERSION$6);
+            }
+        }
+        
+        /**
+         * Gets the "version-drop" attribute
+         */
+        public java.util.Calendar getVersionDrop()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSIONDROP$8);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "version-drop" attribute
+         */
+        public org.apache.xmlbeans.XmlDate xgetVersionDrop()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSIONDROP$8);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "version-drop" attribute
+         */
+        public boolean isSetVersionDrop()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(VERSIONDROP$8) != null;
+            }
+        }
+        
+        /**
+         * Sets the "version-drop" attribute
+         */
+        public void setVersionDrop(java.util.Calendar versionDrop)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSIONDROP$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSIONDROP$8);
+                }
+                target.setCalendarValue(versionDrop);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "version-drop" attribute
+         */
+        public void xsetVersionDrop(org.apache.xmlbeans.XmlDate versionDrop)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(VERSIONDROP$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(VERSIONDROP$8);
+                }
+                target.set(versionDrop);
+            }
+        }
+        
+        /**
+         * Unsets the "version-drop" attribute
+         */
+        public void unsetVersionDrop()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(VERSIONDROP$8);
+            }
+        }
+    }
+    /**
+     * An XML query(@).
+     *
+     * This is a complex type.
+     */
+    public static class QueryImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestCase.Query
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public QueryImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+            new javax.xml.namespace.QName("", "description");
+        private static final javax.xml.namespace.QName NOTE$2 = 
+            new javax.xml.namespace.QName("", "note");
+        private static final javax.xml.namespace.QName NAME$4 = 
+            new javax.xml.namespace.QName("", "name");
+        private static final javax.xml.namespace.QName DATE$6 = 
+            new javax.xml.namespace.QName("", "date");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1724546052:
+                    if (name.equals(DESCRIPTION$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 3387378:
+                    if (name.equals(NOTE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "description" element
+         */
+        public noNamespace.Description getDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.Description target = null;
+                target = (noNamespace.Description)get_store().find_element_user(DESCRIPTION$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "description" element
+         */
+        public void setDescription(noNamespace.Description description)
+        {
+            generatedSetterHelperImpl(description, DESCRIPTION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "description" element
+         */
+        public noNamespace.Description addNewDescription()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.Description target = null;
+                target = (noNamespace.Description)get_store().add_element_user(DESCRIPTION$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "note" elements
+         */
+        public java.lang.String[] getNoteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(NOTE$2, targetList);
+                java.lang.String[] result = new java.lang.String[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "note" element
+         */
+        public java.lang.String getNoteArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "note" elements
+         */
+        public org.apache.xmlbeans.XmlString[] xgetNoteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(NOTE$2, targetList);
+                org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "note" element
+         */
+        public org.apache.xmlbeans.XmlString xgetNoteArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "note" element
+         */
+        public int sizeOfNoteArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(NOTE$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "note" element
+         */
+        public void setNoteArray(java.lang.String[] noteArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(noteArray, NOTE$2);
+            }
+        }
+        
+        /**
+         * Sets ith "note" element
+         */
+        public void setNoteArray(int i, java.lang.String note)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NOTE$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setStringValue(note);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "note" element
+         */
+        public void xsetNoteArray(org.apache.xmlbeans.XmlString[]noteArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(noteArray, NOTE$2);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "note" element
+         */
+        public void xsetNoteArray(int i, org.apache.xmlbeans.XmlString note)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NOTE$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(note);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "note" element
+         */
+        public void insertNote(int i, java.lang.String note)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NOTE$2, i);
+                target.setStringValue(note);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "note" element
+         */
+        public void addNote(java.lang.String note)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NOTE$2);
+                target.setStringValue(note);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "note" element
+         */
+        public org.apache.xmlbeans.XmlString insertNewNote(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(NOTE$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "note" element
+         */
+        public org.apache.xmlbeans.XmlString addNewNote()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NOTE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "note" element
+         */
+        public void removeNote(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(NOTE$2, i);
+            }
+        }
+        
+        /**
+         * Gets the "name" attribute
+         */
+        public java.lang.String getName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "name" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "name" attribute
+         */
+        public boolean isSetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(NAME$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "name" attribute
+         */
+        public void setName(java.lang.String name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$4);
+                }
+                target.setStringValue(name);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "name" attribute
+         */
+        public void xsetName(org.apache.xmlbeans.XmlString name)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$4);
+                }
+                target.set(name);
+            }
+        }
+        
+        /**
+         * Unsets the "name" attribute
+         */
+        public void unsetName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(NAME$4);
+            }
+        }
+        
+        /**
+         * Gets the "date" attribute
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$6);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "date" attribute
+         */
+        public org.apache.xmlbeans.XmlDate xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(DATE$6);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "date" attribute
+         */
+        public boolean isSetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DATE$6) != null;
+            }
+        }
+        
+        /**
+         * Sets the "date" attribute
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DATE$6);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "date" attribute
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(DATE$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(DATE$6);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Unsets the "date" attribute
+         */
+        public void unsetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DATE$6);
+            }
+        }
+    }
+    /**
+     * An XML input-file(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$InputFile.
+     */
+    public static class InputFileImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements noNamespace.TestCase.InputFile
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public InputFileImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected InputFileImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName ROLE$0 = 
+            new javax.xml.namespace.QName("", "role");
+        
+        
+        /**
+         * Gets the "role" attribute
+         */
+        public noNamespace.RoleEnum.Enum getRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.RoleEnum.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "role" attribute
+         */
+        public noNamespace.RoleEnum xgetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RoleEnum target = null;
+                target = (noNamespace.RoleEnum)get_store().find_attribute_user(ROLE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "role" attribute
+         */
+        public boolean isSetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ROLE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "role" attribute
+         */
+        public void setRole(noNamespace.RoleEnum.Enum role)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ROLE$0);
+                }
+                target.setEnumValue(role);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "role" attribute
+         */
+        public void xsetRole(noNamespace.RoleEnum role)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RoleEnum target = null;
+                target = (noNamespace.RoleEnum)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    target = (noNamespace.RoleEnum)get_store().add_attribute_user(ROLE$0);
+                }
+                target.set(role);
+            }
+        }
+        
+        /**
+         * Unsets the "role" attribute
+         */
+        public void unsetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ROLE$0);
+            }
+        }
+    }
+    /**
+     * An XML output-file(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.TestCase$OutputFile.
+     */
+    public static class OutputFileImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements noNamespace.TestCase.OutputFile
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public OutputFileImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected OutputFileImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName ROLE$0 = 
+            new javax.xml.namespace.QName("", "role");
+        private static final javax.xml.namespace.QName COMPARE$2 = 
+            new javax.xml.namespace.QName("", "compare");
+        
+        
+        /**
+         * Gets the "role" attribute
+         */
+        public noNamespace.RoleEnum.Enum getRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.RoleEnum.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "role" attribute
+         */
+        public noNamespace.RoleEnum xgetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RoleEnum target = null;
+                target = (noNamespace.RoleEnum)get_store().find_attribute_user(ROLE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "role" attribute
+         */
+        public boolean isSetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ROLE$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "role" attribute
+         */
+        public void setRole(noNamespace.RoleEnum.Enum role)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ROLE$0);
+                }
+                target.setEnumValue(role);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "role" attribute
+         */
+        public void xsetRole(noNamespace.RoleEnum role)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.RoleEnum target = null;
+                target = (noNamespace.RoleEnum)get_store().find_attribute_user(ROLE$0);
+                if (target == null)
+                {
+                    target = (noNamespace.RoleEnum)get_store().add_attribute_user(ROLE$0);
+                }
+                target.set(role);
+            }
+        }
+        
+        /**
+         * Unsets the "role" attribute
+         */
+        public void unsetRole()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ROLE$0);
+            }
+        }
+        
+        /**
+         * Gets the "compare" attribute
+         */
+        public noNamespace.ComparisonEnum.Enum getCompare()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COMPARE$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (noNamespace.ComparisonEnum.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "compare" attribute
+         */
+        public noNamespace.ComparisonEnum xgetCompare()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ComparisonEnum target = null;
+                target = (noNamespace.ComparisonEnum)get_store().find_attribute_user(COMPARE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "compare" attribute
+         */
+        public boolean isSetCompare()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(COMPARE$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "compare" attribute
+         */
+        public void setCompare(noNamespace.ComparisonEnum.Enum compare)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COMPARE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COMPARE$2);
+                }
+                target.setEnumValue(compare);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "compare" attribute
+         */
+        public void xsetCompare(noNamespace.ComparisonEnum compare)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.ComparisonEnum target = null;
+                target = (noNamespace.ComparisonEnum)get_store().find_attribute_user(COMPARE$2);
+                if (target == null)
+                {
+                    target = (noNamespace.ComparisonEnum)get_store().add_attribute_user(COMPARE$2);
+                }
+                target.set(compare);
+            }
+        }
+        
+        /**
+         * Unsets the "compare" attribute
+         */
+        public void unsetCompare()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(COMPARE$2);
+            }
+        }
+    }
+}
@@ -0,0 +1,2531 @@
+/*
+ * An XML document type.
+ * Localname: test-suite
+ * Namespace: 
+ * Java type: noNamespace.TestSuiteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one test-suite(@) element.
+ *
+ * This is a complex type.
+ */
+public class TestSuiteDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestSuiteDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTSUITE$0 = 
+        new javax.xml.namespace.QName("", "test-suite");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 639007229:
+                if (name.equals(TESTSUITE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test-suite" element
+     */
+    public noNamespace.TestSuiteDocument.TestSuite getTestSuite()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestSuiteDocument.TestSuite target = null;
+            target = (noNamespace.TestSuiteDocument.TestSuite)get_store().find_element_user(TESTSUITE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test-suite" element
+     */
+    public void setTestSuite(noNamespace.TestSuiteDocument.TestSuite testSuite)
+    {
+        generatedSetterHelperImpl(testSuite, TESTSUITE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test-suite" element
+     */
+    public noNamespace.TestSuiteDocument.TestSuite addNewTestSuite()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TestSuiteDocument.TestSuite target = null;
+            target = (noNamespace.TestSuiteDocument.TestSuite)get_store().add_element_user(TESTSUITE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML test-suite(@).
+     *
+     * This is a complex type.
+     */
+    public static class TestSuiteImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestSuiteImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CITATIONS$0 = 
+            new javax.xml.namespace.QName("", "citations");
+        private static final javax.xml.namespace.QName COMPARISONS$2 = 
+            new javax.xml.namespace.QName("", "comparisons");
+        private static final javax.xml.namespace.QName ROLES$4 = 
+            new javax.xml.namespace.QName("", "roles");
+        private static final javax.xml.namespace.QName SCENARIOS$6 = 
+            new javax.xml.namespace.QName("", "scenarios");
+        private static final javax.xml.namespace.QName SOURCES$8 = 
+            new javax.xml.namespace.QName("", "sources");
+        private static final javax.xml.namespace.QName TESTGROUP$10 = 
+            new javax.xml.namespace.QName("", "test-group");
+        private static final javax.xml.namespace.QName CATALOGDESIGNDATE$12 = 
+            new javax.xml.namespace.QName("", "CatalogDesignDate");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(6);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -2021876808:
+                    if (name.equals(SOURCES$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case -1774235028:
+                    if (name.equals(CITATIONS$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -407726710:
+                    if (name.equals(COMPARISONS$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 108695229:
+                    if (name.equals(ROLES$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 627841412:
+                    if (name.equals(TESTGROUP$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 1726545635:
+                    if (name.equals(SCENARIOS$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "citations" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Citations getCitations()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Citations target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Citations)get_store().find_element_user(CITATIONS$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "citations" element
+         */
+        public void setCitations(noNamespace.TestSuiteDocument.TestSuite.Citations citations)
+        {
+            generatedSetterHelperImpl(citations, CITATIONS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "citations" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Citations addNewCitations()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Citations target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Citations)get_store().add_element_user(CITATIONS$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "comparisons" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Comparisons getComparisons()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Comparisons target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Comparisons)get_store().find_element_user(COMPARISONS$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "comparisons" element
+         */
+        public void setComparisons(noNamespace.TestSuiteDocument.TestSuite.Comparisons comparisons)
+        {
+            generatedSetterHelperImpl(comparisons, COMPARISONS$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "comparisons" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Comparisons addNewComparisons()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Comparisons target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Comparisons)get_store().add_element_user(COMPARISONS$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "roles" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Roles getRoles()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Roles target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Roles)get_store().find_element_user(ROLES$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "roles" element
+         */
+        public void setRoles(noNamespace.TestSuiteDocument.TestSuite.Roles roles)
+        {
+            generatedSetterHelperImpl(roles, ROLES$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "roles" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Roles addNewRoles()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Roles target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Roles)get_store().add_element_user(ROLES$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "scenarios" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Scenarios getScenarios()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Scenarios target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Scenarios)get_store().find_element_user(SCENARIOS$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "scenarios" element
+         */
+        public void setScenarios(noNamespace.TestSuiteDocument.TestSuite.Scenarios scenarios)
+        {
+            generatedSetterHelperImpl(scenarios, SCENARIOS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "scenarios" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Scenarios addNewScenarios()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Scenarios target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Scenarios)get_store().add_element_user(SCENARIOS$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "sources" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Sources getSources()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Sources target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Sources)get_store().find_element_user(SOURCES$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "sources" element
+         */
+        public void setSources(noNamespace.TestSuiteDocument.TestSuite.Sources sources)
+        {
+            generatedSetterHelperImpl(sources, SOURCES$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "sources" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.Sources addNewSources()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.Sources target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.Sources)get_store().add_element_user(SOURCES$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "test-group" elements
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.TestGroup[] getTestGroupArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(TESTGROUP$10, targetList);
+                noNamespace.TestSuiteDocument.TestSuite.TestGroup[] result = new noNamespace.TestSuiteDocument.TestSuite.TestGroup[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "test-group" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.TestGroup getTestGroupArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.TestGroup target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.TestGroup)get_store().find_element_user(TESTGROUP$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "test-group" element
+         */
+        public int sizeOfTestGroupArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(TESTGROUP$10);
+            }
+        }
+        
+        /**
+         * Sets array of all "test-group" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setTestGroupArray(noNamespace.TestSuiteDocument.TestSuite.TestGroup[] testGroupArray)
+        {
+            check_orphaned();
+            arraySetterHelper(testGroupArray, TESTGROUP$10);
+        }
+        
+        /**
+         * Sets ith "test-group" element
+         */
+        public void setTestGroupArray(int i, noNamespace.TestSuiteDocument.TestSuite.TestGroup testGroup)
+        {
+            generatedSetterHelperImpl(testGroup, TESTGROUP$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "test-group" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.TestGroup insertNewTestGroup(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.TestGroup target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.TestGroup)get_store().insert_element_user(TESTGROUP$10, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "test-group" element
+         */
+        public noNamespace.TestSuiteDocument.TestSuite.TestGroup addNewTestGroup()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.TestSuiteDocument.TestSuite.TestGroup target = null;
+                target = (noNamespace.TestSuiteDocument.TestSuite.TestGroup)get_store().add_element_user(TESTGROUP$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "test-group" element
+         */
+        public void removeTestGroup(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(TESTGROUP$10, i);
+            }
+        }
+        
+        /**
+         * Gets the "CatalogDesignDate" attribute
+         */
+        public java.util.Calendar getCatalogDesignDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CATALOGDESIGNDATE$12);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CatalogDesignDate" attribute
+         */
+        public org.apache.xmlbeans.XmlDate xgetCatalogDesignDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(CATALOGDESIGNDATE$12);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CatalogDesignDate" attribute
+         */
+        public boolean isSetCatalogDesignDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(CATALOGDESIGNDATE$12) != null;
+            }
+        }
+        
+        /**
+         * Sets the "CatalogDesignDate" attribute
+         */
+        public void setCatalogDesignDate(java.util.Calendar catalogDesignDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CATALOGDESIGNDATE$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CATALOGDESIGNDATE$12);
+                }
+                target.setCalendarValue(catalogDesignDate);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CatalogDesignDate" attribute
+         */
+        public void xsetCatalogDesignDate(org.apache.xmlbeans.XmlDate catalogDesignDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(CATALOGDESIGNDATE$12);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(CATALOGDESIGNDATE$12);
+                }
+                target.set(catalogDesignDate);
+            }
+        }
+        
+        /**
+         * Unsets the "CatalogDesignDate" attribute
+         */
+        public void unsetCatalogDesignDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(CATALOGDESIGNDATE$12);
+            }
+        }
+        /**
+         * An XML citations(@).
+         *
+         * This is a complex type.
+         */
+        public static class CitationsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.Citations
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public CitationsImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName CITATIONSPEC$0 = 
+                new javax.xml.namespace.QName("", "citation-spec");
+            private static final javax.xml.namespace.QName CITATIONTYPE$2 = 
+                new javax.xml.namespace.QName("", "citation-type");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(2);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -460077343:
+                      if (name.equals(CITATIONSPEC$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                    case -460038560:
+                      if (name.equals(CITATIONTYPE$2))
+                          return ORDINAL$BASE + 1;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "citation-spec" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[] getCitationSpecArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(CITATIONSPEC$0, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[] result = new noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "citation-spec" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec getCitationSpecArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec)get_store().find_element_user(CITATIONSPEC$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "citation-spec" element
+             */
+            public int sizeOfCitationSpecArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(CITATIONSPEC$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "citation-spec" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setCitationSpecArray(noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec[] citationSpecArray)
+            {
+                check_orphaned();
+                arraySetterHelper(citationSpecArray, CITATIONSPEC$0);
+            }
+            
+            /**
+             * Sets ith "citation-spec" element
+             */
+            public void setCitationSpecArray(int i, noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec citationSpec)
+            {
+                generatedSetterHelperImpl(citationSpec, CITATIONSPEC$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "citation-spec" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec insertNewCitationSpec(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec)get_store().insert_element_user(CITATIONSPEC$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "citation-spec" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec addNewCitationSpec()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec)get_store().add_element_user(CITATIONSPEC$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "citation-spec" element
+             */
+            public void removeCitationSpec(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(CITATIONSPEC$0, i);
+                }
+            }
+            
+            /**
+             * Gets array of all "citation-type" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[] getCitationTypeArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(CITATIONTYPE$2, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[] result = new noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "citation-type" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType getCitationTypeArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType)get_store().find_element_user(CITATIONTYPE$2, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "citation-type" element
+             */
+            public int sizeOfCitationTypeArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(CITATIONTYPE$2);
+                }
+            }
+            
+            /**
+             * Sets array of all "citation-type" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setCitationTypeArray(noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType[] citationTypeArray)
+            {
+                check_orphaned();
+                arraySetterHelper(citationTypeArray, CITATIONTYPE$2);
+            }
+            
+            /**
+             * Sets ith "citation-type" element
+             */
+            public void setCitationTypeArray(int i, noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType citationType)
+            {
+                generatedSetterHelperImpl(citationType, CITATIONTYPE$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "citation-type" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType insertNewCitationType(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType)get_store().insert_element_user(CITATIONTYPE$2, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "citation-type" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType addNewCitationType()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType)get_store().add_element_user(CITATIONTYPE$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "citation-type" element
+             */
+            public void removeCitationType(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(CITATIONTYPE$2, i);
+                }
+            }
+            /**
+             * An XML citation-spec(@).
+             *
+             * This is a complex type.
+             */
+            public static class CitationSpecImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Citations.CitationSpec
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public CitationSpecImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName SPECURI$0 = 
+                    new javax.xml.namespace.QName("", "spec-URI");
+                private static final javax.xml.namespace.QName NAME$2 = 
+                    new javax.xml.namespace.QName("", "name");
+                
+                private static final int ORDINAL$BASE = new_element_ordinals(1);
+                
+                public int get_element_ordinal(javax.xml.namespace.QName name)
+                {
+                    switch (name.getLocalPart().hashCode())
+                    {
+                      case -2134679494:
+                        if (name.equals(SPECURI$0))
+                            return ORDINAL$BASE + 0;
+                        break;
+                    }
+                    return super.get_element_ordinal(name);
+                }
+                
+                
+                /**
+                 * Gets the "spec-URI" element
+                 */
+                public java.lang.String getSpecURI()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPECURI$0, 0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "spec-URI" element
+                 */
+                public org.apache.xmlbeans.XmlAnyURI xgetSpecURI()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlAnyURI target = null;
+                      target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(SPECURI$0, 0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "spec-URI" element
+                 */
+                public void setSpecURI(java.lang.String specURI)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPECURI$0, 0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SPECURI$0);
+                      }
+                      target.setStringValue(specURI);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "spec-URI" element
+                 */
+                public void xsetSpecURI(org.apache.xmlbeans.XmlAnyURI specURI)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlAnyURI target = null;
+                      target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(SPECURI$0, 0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_element_user(SPECURI$0);
+                      }
+                      target.set(specURI);
+                    }
+                }
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                public noNamespace.CitationSpecEnum.Enum getName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return (noNamespace.CitationSpecEnum.Enum)target.getEnumValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                public noNamespace.CitationSpecEnum xgetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.CitationSpecEnum target = null;
+                      target = (noNamespace.CitationSpecEnum)get_store().find_attribute_user(NAME$2);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                public boolean isSetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(NAME$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                public void setName(noNamespace.CitationSpecEnum.Enum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$2);
+                      }
+                      target.setEnumValue(name);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                public void xsetName(noNamespace.CitationSpecEnum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.CitationSpecEnum target = null;
+                      target = (noNamespace.CitationSpecEnum)get_store().find_attribute_user(NAME$2);
+                      if (target == null)
+                      {
+                        target = (noNamespace.CitationSpecEnum)get_store().add_attribute_user(NAME$2);
+                      }
+                      target.set(name);
+                    }
+                }
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                public void unsetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(NAME$2);
+                    }
+                }
+            }
+            /**
+             * An XML citation-type(@).
+             *
+             * This is a complex type.
+             */
+            public static class CitationTypeImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Citations.CitationType
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public CitationTypeImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName NAME$0 = 
+                    new javax.xml.namespace.QName("", "name");
+                
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                public noNamespace.CitationTypeEnum.Enum getName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return (noNamespace.CitationTypeEnum.Enum)target.getEnumValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                public noNamespace.CitationTypeEnum xgetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.CitationTypeEnum target = null;
+                      target = (noNamespace.CitationTypeEnum)get_store().find_attribute_user(NAME$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                public boolean isSetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(NAME$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                public void setName(noNamespace.CitationTypeEnum.Enum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.setEnumValue(name);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                public void xsetName(noNamespace.CitationTypeEnum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.CitationTypeEnum target = null;
+                      target = (noNamespace.CitationTypeEnum)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (noNamespace.CitationTypeEnum)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.set(name);
+                    }
+                }
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                public void unsetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(NAME$0);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML comparisons(@).
+         *
+         * This is a complex type.
+         */
+        public static class ComparisonsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.Comparisons
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public ComparisonsImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName COMPARISON$0 = 
+                new javax.xml.namespace.QName("", "comparison");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(1);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -844436471:
+                      if (name.equals(COMPARISON$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "comparison" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[] getComparisonArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(COMPARISON$0, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[] result = new noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "comparison" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison getComparisonArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison)get_store().find_element_user(COMPARISON$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "comparison" element
+             */
+            public int sizeOfComparisonArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(COMPARISON$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "comparison" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setComparisonArray(noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison[] comparisonArray)
+            {
+                check_orphaned();
+                arraySetterHelper(comparisonArray, COMPARISON$0);
+            }
+            
+            /**
+             * Sets ith "comparison" element
+             */
+            public void setComparisonArray(int i, noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison comparison)
+            {
+                generatedSetterHelperImpl(comparison, COMPARISON$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "comparison" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison insertNewComparison(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison)get_store().insert_element_user(COMPARISON$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "comparison" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison addNewComparison()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison)get_store().add_element_user(COMPARISON$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "comparison" element
+             */
+            public void removeComparison(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(COMPARISON$0, i);
+                }
+            }
+            /**
+             * An XML comparison(@).
+             *
+             * This is a complex type.
+             */
+            public static class ComparisonImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Comparisons.Comparison
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public ComparisonImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName NAME$0 = 
+                    new javax.xml.namespace.QName("", "name");
+                
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                public noNamespace.ComparisonEnum.Enum getName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return (noNamespace.ComparisonEnum.Enum)target.getEnumValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                public noNamespace.ComparisonEnum xgetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.ComparisonEnum target = null;
+                      target = (noNamespace.ComparisonEnum)get_store().find_attribute_user(NAME$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                public boolean isSetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(NAME$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                public void setName(noNamespace.ComparisonEnum.Enum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.setEnumValue(name);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                public void xsetName(noNamespace.ComparisonEnum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.ComparisonEnum target = null;
+                      target = (noNamespace.ComparisonEnum)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (noNamespace.ComparisonEnum)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.set(name);
+                    }
+                }
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                public void unsetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(NAME$0);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML roles(@).
+         *
+         * This is a complex type.
+         */
+        public static class RolesImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.Roles
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public RolesImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName ROLE$0 = 
+                new javax.xml.namespace.QName("", "role");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(1);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case 3506294:
+                      if (name.equals(ROLE$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "role" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Roles.Role[] getRoleArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(ROLE$0, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Roles.Role[] result = new noNamespace.TestSuiteDocument.TestSuite.Roles.Role[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "role" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Roles.Role getRoleArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Roles.Role target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Roles.Role)get_store().find_element_user(ROLE$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "role" element
+             */
+            public int sizeOfRoleArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(ROLE$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "role" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setRoleArray(noNamespace.TestSuiteDocument.TestSuite.Roles.Role[] roleArray)
+            {
+                check_orphaned();
+                arraySetterHelper(roleArray, ROLE$0);
+            }
+            
+            /**
+             * Sets ith "role" element
+             */
+            public void setRoleArray(int i, noNamespace.TestSuiteDocument.TestSuite.Roles.Role role)
+            {
+                generatedSetterHelperImpl(role, ROLE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "role" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Roles.Role insertNewRole(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Roles.Role target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Roles.Role)get_store().insert_element_user(ROLE$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "role" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Roles.Role addNewRole()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Roles.Role target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Roles.Role)get_store().add_element_user(ROLE$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "role" element
+             */
+            public void removeRole(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(ROLE$0, i);
+                }
+            }
+            /**
+             * An XML role(@).
+             *
+             * This is a complex type.
+             */
+            public static class RoleImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Roles.Role
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public RoleImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName NAME$0 = 
+                    new javax.xml.namespace.QName("", "name");
+                
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                public noNamespace.RoleEnum.Enum getName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return (noNamespace.RoleEnum.Enum)target.getEnumValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                public noNamespace.RoleEnum xgetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.RoleEnum target = null;
+                      target = (noNamespace.RoleEnum)get_store().find_attribute_user(NAME$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                public boolean isSetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(NAME$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                public void setName(noNamespace.RoleEnum.Enum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.setEnumValue(name);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                public void xsetName(noNamespace.RoleEnum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.RoleEnum target = null;
+                      target = (noNamespace.RoleEnum)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (noNamespace.RoleEnum)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.set(name);
+                    }
+                }
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                public void unsetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(NAME$0);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML scenarios(@).
+         *
+         * This is a complex type.
+         */
+        public static class ScenariosImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.Scenarios
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public ScenariosImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName SCENARIO$0 = 
+                new javax.xml.namespace.QName("", "scenario");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(1);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -775588976:
+                      if (name.equals(SCENARIO$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "scenario" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[] getScenarioArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(SCENARIO$0, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[] result = new noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "scenario" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario getScenarioArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario)get_store().find_element_user(SCENARIO$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "scenario" element
+             */
+            public int sizeOfScenarioArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(SCENARIO$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "scenario" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setScenarioArray(noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario[] scenarioArray)
+            {
+                check_orphaned();
+                arraySetterHelper(scenarioArray, SCENARIO$0);
+            }
+            
+            /**
+             * Sets ith "scenario" element
+             */
+            public void setScenarioArray(int i, noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario scenario)
+            {
+                generatedSetterHelperImpl(scenario, SCENARIO$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "scenario" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario insertNewScenario(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario)get_store().insert_element_user(SCENARIO$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "scenario" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario addNewScenario()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario)get_store().add_element_user(SCENARIO$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "scenario" element
+             */
+            public void removeScenario(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(SCENARIO$0, i);
+                }
+            }
+            /**
+             * An XML scenario(@).
+             *
+             * This is a complex type.
+             */
+            public static class ScenarioImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Scenarios.Scenario
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public ScenarioImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName NAME$0 = 
+                    new javax.xml.namespace.QName("", "name");
+                
+                
+                /**
+                 * Gets the "name" attribute
+                 */
+                public noNamespace.ScenariosEnum.Enum getName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return (noNamespace.ScenariosEnum.Enum)target.getEnumValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "name" attribute
+                 */
+                public noNamespace.ScenariosEnum xgetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.ScenariosEnum target = null;
+                      target = (noNamespace.ScenariosEnum)get_store().find_attribute_user(NAME$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "name" attribute
+                 */
+                public boolean isSetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(NAME$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "name" attribute
+                 */
+                public void setName(noNamespace.ScenariosEnum.Enum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.setEnumValue(name);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "name" attribute
+                 */
+                public void xsetName(noNamespace.ScenariosEnum name)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      noNamespace.ScenariosEnum target = null;
+                      target = (noNamespace.ScenariosEnum)get_store().find_attribute_user(NAME$0);
+                      if (target == null)
+                      {
+                        target = (noNamespace.ScenariosEnum)get_store().add_attribute_user(NAME$0);
+                      }
+                      target.set(name);
+                    }
+                }
+                
+                /**
+                 * Unsets the "name" attribute
+                 */
+                public void unsetName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(NAME$0);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML sources(@).
+         *
+         * This is a complex type.
+         */
+        public static class SourcesImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.Sources
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public SourcesImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName SOURCE$0 = 
+                new javax.xml.namespace.QName("", "source");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(1);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -896505829:
+                      if (name.equals(SOURCE$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "source" elements
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Sources.Source[] getSourceArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(SOURCE$0, targetList);
+                    noNamespace.TestSuiteDocument.TestSuite.Sources.Source[] result = new noNamespace.TestSuiteDocument.TestSuite.Sources.Source[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "source" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Sources.Source getSourceArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Sources.Source target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Sources.Source)get_store().find_element_user(SOURCE$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "source" element
+             */
+            public int sizeOfSourceArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(SOURCE$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "source" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setSourceArray(noNamespace.TestSuiteDocument.TestSuite.Sources.Source[] sourceArray)
+            {
+                check_orphaned();
+                arraySetterHelper(sourceArray, SOURCE$0);
+            }
+            
+            /**
+             * Sets ith "source" element
+             */
+            public void setSourceArray(int i, noNamespace.TestSuiteDocument.TestSuite.Sources.Source source)
+            {
+                generatedSetterHelperImpl(source, SOURCE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "source" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Sources.Source insertNewSource(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Sources.Source target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Sources.Source)get_store().insert_element_user(SOURCE$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "source" element
+             */
+            public noNamespace.TestSuiteDocument.TestSuite.Sources.Source addNewSource()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestSuiteDocument.TestSuite.Sources.Source target = null;
+                    target = (noNamespace.TestSuiteDocument.TestSuite.Sources.Source)get_store().add_element_user(SOURCE$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "source" element
+             */
+            public void removeSource(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(SOURCE$0, i);
+                }
+            }
+            /**
+             * An XML source(@).
+             *
+             * This is a complex type.
+             */
+            public static class SourceImpl extends noNamespace.impl.InfoBaseImpl implements noNamespace.TestSuiteDocument.TestSuite.Sources.Source
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public SourceImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName ID$0 = 
+                    new javax.xml.namespace.QName("", "ID");
+                private static final javax.xml.namespace.QName FILENAME$2 = 
+                    new javax.xml.namespace.QName("", "FileName");
+                private static final javax.xml.namespace.QName CREATOR$4 = 
+                    new javax.xml.namespace.QName("", "Creator");
+                
+                
+                /**
+                 * Gets the "ID" attribute
+                 */
+                public java.lang.String getID()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "ID" attribute
+                 */
+                public org.apache.xmlbeans.XmlID xgetID()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlID target = null;
+                      target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "ID" attribute
+                 */
+                public boolean isSetID()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(ID$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "ID" attribute
+                 */
+                public void setID(java.lang.String id)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$0);
+                      }
+                      target.setStringValue(id);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "ID" attribute
+                 */
+                public void xsetID(org.apache.xmlbeans.XmlID id)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlID target = null;
+                      target = (org.apache.xmlbeans.XmlID)get_store().find_attribute_user(ID$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlID)get_store().add_attribute_user(ID$0);
+                      }
+                      target.set(id);
+                    }
+                }
+                
+                /**
+                 * Unsets the "ID" attribute
+                 */
+                public void unsetID()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(ID$0);
+                    }
+                }
+                
+                /**
+                 * Gets the "FileName" attribute
+                 */
+                public java.lang.String getFileName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILENAME$2);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "FileName" attribute
+                 */
+                public org.apache.xmlbeans.XmlAnyURI xgetFileName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlAnyURI target = null;
+                      target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FILENAME$2);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "FileName" attribute
+                 */
+                public boolean isSetFileName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(FILENAME$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "FileName" attribute
+                 */
+                public void setFileName(java.lang.String fileName)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(FILENAME$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(FILENAME$2);
+                      }
+                      target.setStringValue(fileName);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "FileName" attribute
+                 */
+                public void xsetFileName(org.apache.xmlbeans.XmlAnyURI fileName)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlAnyURI target = null;
+                      target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(FILENAME$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(FILENAME$2);
+                      }
+                      target.set(fileName);
+                    }
+                }
+                
+                /**
+                 * Unsets the "FileName" attribute
+                 */
+                public void unsetFileName()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(FILENAME$2);
+                    }
+                }
+                
+                /**
+                 * Gets the "Creator" attribute
+                 */
+                public java.lang.String getCreator()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CREATOR$4);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "Creator" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetCreator()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CREATOR$4);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "Creator" attribute
+                 */
+                public boolean isSetCreator()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(CREATOR$4) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "Creator" attribute
+                 */
+                public void setCreator(java.lang.String creator)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(CREATOR$4);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(CREATOR$4);
+                      }
+                      target.setStringValue(creator);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "Creator" attribute
+                 */
+                public void xsetCreator(org.apache.xmlbeans.XmlString creator)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(CREATOR$4);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(CREATOR$4);
+                      }
+                      target.set(creator);
+                    }
+                }
+                
+                /**
+                 * Unsets the "Creator" attribute
+                 */
+                public void unsetCreator()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(CREATOR$4);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML test-group(@).
+         *
+         * This is a complex type.
+         */
+        public static class TestGroupImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TestSuiteDocument.TestSuite.TestGroup
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public TestGroupImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName GROUPINFO$0 = 
+                new javax.xml.namespace.QName("", "GroupInfo");
+            private static final javax.xml.namespace.QName TESTCASE$2 = 
+                new javax.xml.namespace.QName("", "test-case");
+            private static final javax.xml.namespace.QName NAME$4 = 
+                new javax.xml.namespace.QName("", "name");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(2);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case -1226808437:
+                      if (name.equals(TESTCASE$2))
+                          return ORDINAL$BASE + 1;
+                      break;
+                    case 520656813:
+                      if (name.equals(GROUPINFO$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets the "GroupInfo" element
+             */
+            public noNamespace.GroupInfo getGroupInfo()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.GroupInfo target = null;
+                    target = (noNamespace.GroupInfo)get_store().find_element_user(GROUPINFO$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "GroupInfo" element
+             */
+            public void setGroupInfo(noNamespace.GroupInfo groupInfo)
+            {
+                generatedSetterHelperImpl(groupInfo, GROUPINFO$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "GroupInfo" element
+             */
+            public noNamespace.GroupInfo addNewGroupInfo()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.GroupInfo target = null;
+                    target = (noNamespace.GroupInfo)get_store().add_element_user(GROUPINFO$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets array of all "test-case" elements
+             */
+            public noNamespace.TestCase[] getTestCaseArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(TESTCASE$2, targetList);
+                    noNamespace.TestCase[] result = new noNamespace.TestCase[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "test-case" element
+             */
+            public noNamespace.TestCase getTestCaseArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestCase target = null;
+                    target = (noNamespace.TestCase)get_store().find_element_user(TESTCASE$2, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "test-case" element
+             */
+            public int sizeOfTestCaseArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(TESTCASE$2);
+                }
+            }
+            
+            /**
+             * Sets array of all "test-case" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setTestCaseArray(noNamespace.TestCase[] testCaseArray)
+            {
+                check_orphaned();
+                arraySetterHelper(testCaseArray, TESTCASE$2);
+            }
+            
+            /**
+             * Sets ith "test-case" element
+             */
+            public void setTestCaseArray(int i, noNamespace.TestCase testCase)
+            {
+                generatedSetterHelperImpl(testCase, TESTCASE$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "test-case" element
+             */
+            public noNamespace.TestCase insertNewTestCase(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestCase target = null;
+                    target = (noNamespace.TestCase)get_store().insert_element_user(TESTCASE$2, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "test-case" element
+             */
+            public noNamespace.TestCase addNewTestCase()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    noNamespace.TestCase target = null;
+                    target = (noNamespace.TestCase)get_store().add_element_user(TESTCASE$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "test-case" element
+             */
+            public void removeTestCase(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(TESTCASE$2, i);
+                }
+            }
+            
+            /**
+             * Gets the "name" attribute
+             */
+            public java.lang.String getName()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "name" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetName()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "name" attribute
+             */
+            public boolean isSetName()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(NAME$4) != null;
+                }
+            }
+            
+            /**
+             * Sets the "name" attribute
+             */
+            public void setName(java.lang.String name)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$4);
+                    }
+                    target.setStringValue(name);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "name" attribute
+             */
+            public void xsetName(org.apache.xmlbeans.XmlString name)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$4);
+                    }
+                    target.set(name);
+                }
+            }
+            
+            /**
+             * Unsets the "name" attribute
+             */
+            public void unsetName()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(NAME$4);
+                }
+            }
+        }
+    }
+}
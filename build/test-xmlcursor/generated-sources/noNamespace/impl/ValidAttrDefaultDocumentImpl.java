@@ -0,0 +1,211 @@
+/*
+ * An XML document type.
+ * Localname: validAttrDefault
+ * Namespace: 
+ * Java type: noNamespace.ValidAttrDefaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one validAttrDefault(@) element.
+ *
+ * This is a complex type.
+ */
+public class ValidAttrDefaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidAttrDefaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ValidAttrDefaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VALIDATTRDEFAULT$0 = 
+        new javax.xml.namespace.QName("", "validAttrDefault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -738183820:
+                if (name.equals(VALIDATTRDEFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "validAttrDefault" element
+     */
+    public noNamespace.ValidAttrDefaultDocument.ValidAttrDefault getValidAttrDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ValidAttrDefaultDocument.ValidAttrDefault target = null;
+            target = (noNamespace.ValidAttrDefaultDocument.ValidAttrDefault)get_store().find_element_user(VALIDATTRDEFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "validAttrDefault" element
+     */
+    public void setValidAttrDefault(noNamespace.ValidAttrDefaultDocument.ValidAttrDefault validAttrDefault)
+    {
+        generatedSetterHelperImpl(validAttrDefault, VALIDATTRDEFAULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "validAttrDefault" element
+     */
+    public noNamespace.ValidAttrDefaultDocument.ValidAttrDefault addNewValidAttrDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ValidAttrDefaultDocument.ValidAttrDefault target = null;
+            target = (noNamespace.ValidAttrDefaultDocument.ValidAttrDefault)get_store().add_element_user(VALIDATTRDEFAULT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML validAttrDefault(@).
+     *
+     * This is a complex type.
+     */
+    public static class ValidAttrDefaultImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidAttrDefaultDocument.ValidAttrDefault
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ValidAttrDefaultImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ATTR$0 = 
+            new javax.xml.namespace.QName("", "attr");
+        
+        
+        /**
+         * Gets the "attr" attribute
+         */
+        public int getAttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(ATTR$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ATTR$0);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "attr" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetAttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ATTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(ATTR$0);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "attr" attribute
+         */
+        public boolean isSetAttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ATTR$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "attr" attribute
+         */
+        public void setAttr(int attr)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTR$0);
+                }
+                target.setIntValue(attr);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "attr" attribute
+         */
+        public void xsetAttr(org.apache.xmlbeans.XmlInt attr)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ATTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(ATTR$0);
+                }
+                target.set(attr);
+            }
+        }
+        
+        /**
+         * Unsets the "attr" attribute
+         */
+        public void unsetAttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ATTR$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * An XML document type.
+ * Localname: validAttrFixed
+ * Namespace: 
+ * Java type: noNamespace.ValidAttrFixedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one validAttrFixed(@) element.
+ *
+ * This is a complex type.
+ */
+public class ValidAttrFixedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidAttrFixedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ValidAttrFixedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VALIDATTRFIXED$0 = 
+        new javax.xml.namespace.QName("", "validAttrFixed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1348503705:
+                if (name.equals(VALIDATTRFIXED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "validAttrFixed" element
+     */
+    public noNamespace.ValidAttrFixedDocument.ValidAttrFixed getValidAttrFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ValidAttrFixedDocument.ValidAttrFixed target = null;
+            target = (noNamespace.ValidAttrFixedDocument.ValidAttrFixed)get_store().find_element_user(VALIDATTRFIXED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "validAttrFixed" element
+     */
+    public void setValidAttrFixed(noNamespace.ValidAttrFixedDocument.ValidAttrFixed validAttrFixed)
+    {
+        generatedSetterHelperImpl(validAttrFixed, VALIDATTRFIXED$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "validAttrFixed" element
+     */
+    public noNamespace.ValidAttrFixedDocument.ValidAttrFixed addNewValidAttrFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.ValidAttrFixedDocument.ValidAttrFixed target = null;
+            target = (noNamespace.ValidAttrFixedDocument.ValidAttrFixed)get_store().add_element_user(VALIDATTRFIXED$0);
+            return target;
+        }
+    }
+    /**
+     * An XML validAttrFixed(@).
+     *
+     * This is a complex type.
+     */
+    public static class ValidAttrFixedImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidAttrFixedDocument.ValidAttrFixed
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ValidAttrFixedImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ARICTTR$0 = 
+            new javax.xml.namespace.QName("", "aricttr");
+        
+        
+        /**
+         * Gets the "aricttr" attribute
+         */
+        public int getAricttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(ARICTTR$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ARICTTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(ARICTTR$0);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "aricttr" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetAricttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ARICTTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(ARICTTR$0);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "aricttr" attribute
+         */
+        public boolean isSetAricttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(ARICTTR$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "aricttr" attribute
+         */
+        public void setAricttr(int aricttr)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ARICTTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ARICTTR$0);
+                }
+                target.setIntValue(aricttr);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "aricttr" attribute
+         */
+        public void xsetAricttr(org.apache.xmlbeans.XmlInt aricttr)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(ARICTTR$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(ARICTTR$0);
+                }
+                target.set(aricttr);
+            }
+        }
+        
+        /**
+         * Unsets the "aricttr" attribute
+         */
+        public void unsetAricttr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(ARICTTR$0);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: validElemDefault
+ * Namespace: 
+ * Java type: noNamespace.ValidElemDefaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one validElemDefault(@) element.
+ *
+ * This is a complex type.
+ */
+public class ValidElemDefaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidElemDefaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ValidElemDefaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VALIDELEMDEFAULT$0 = 
+        new javax.xml.namespace.QName("", "validElemDefault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -841017834:
+                if (name.equals(VALIDELEMDEFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "validElemDefault" element
+     */
+    public int getValidElemDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(VALIDELEMDEFAULT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALIDELEMDEFAULT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "validElemDefault" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetValidElemDefault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALIDELEMDEFAULT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "validElemDefault" element
+     */
+    public void setValidElemDefault(int validElemDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALIDELEMDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(VALIDELEMDEFAULT$0);
+            }
+            target.setIntValue(validElemDefault);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "validElemDefault" element
+     */
+    public void xsetValidElemDefault(org.apache.xmlbeans.XmlInt validElemDefault)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALIDELEMDEFAULT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(VALIDELEMDEFAULT$0);
+            }
+            target.set(validElemDefault);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: validElemFixed
+ * Namespace: 
+ * Java type: noNamespace.ValidElemFixedDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one validElemFixed(@) element.
+ *
+ * This is a complex type.
+ */
+public class ValidElemFixedDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.ValidElemFixedDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ValidElemFixedDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VALIDELEMFIXED$0 = 
+        new javax.xml.namespace.QName("", "validElemFixed");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1616766839:
+                if (name.equals(VALIDELEMFIXED$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "validElemFixed" element
+     */
+    public int getValidElemFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(VALIDELEMFIXED$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALIDELEMFIXED$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "validElemFixed" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetValidElemFixed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALIDELEMFIXED$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "validElemFixed" element
+     */
+    public void setValidElemFixed(int validElemFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALIDELEMFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(VALIDELEMFIXED$0);
+            }
+            target.setIntValue(validElemFixed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "validElemFixed" element
+     */
+    public void xsetValidElemFixed(org.apache.xmlbeans.XmlInt validElemFixed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALIDELEMFIXED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(VALIDELEMFIXED$0);
+            }
+            target.set(validElemFixed);
+        }
+    }
+}
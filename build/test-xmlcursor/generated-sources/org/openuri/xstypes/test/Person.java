@@ -0,0 +1,938 @@
+/*
+ * XML Type:  person
+ * Namespace: http://openuri.org/xstypes/test
+ * Java type: org.openuri.xstypes.test.Person
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.xstypes.test;
+
+
+/**
+ * An XML person(@http://openuri.org/xstypes/test).
+ *
+ * This is a complex type.
+ */
+public interface Person extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Person.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("person8f4atype");
+    
+    /**
+     * Gets the "firstname" element
+     */
+    java.lang.String getFirstname();
+    
+    /**
+     * Gets (as xml) the "firstname" element
+     */
+    org.apache.xmlbeans.XmlString xgetFirstname();
+    
+    /**
+     * Sets the "firstname" element
+     */
+    void setFirstname(java.lang.String firstname);
+    
+    /**
+     * Sets (as xml) the "firstname" element
+     */
+    void xsetFirstname(org.apache.xmlbeans.XmlString firstname);
+    
+    /**
+     * Gets array of all "number" elements
+     */
+    int[] getNumberArray();
+    
+    /**
+     * Gets ith "number" element
+     */
+    int getNumberArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "number" elements
+     */
+    org.openuri.xstypes.test.Person.Number[] xgetNumberArray();
+    
+    /**
+     * Gets (as xml) ith "number" element
+     */
+    org.openuri.xstypes.test.Person.Number xgetNumberArray(int i);
+    
+    /**
+     * Returns number of "number" element
+     */
+    int sizeOfNumberArray();
+    
+    /**
+     * Sets array of all "number" element
+     */
+    void setNumberArray(int[] numberArray);
+    
+    /**
+     * Sets ith "number" element
+     */
+    void setNumberArray(int i, int number);
+    
+    /**
+     * Sets (as xml) array of all "number" element
+     */
+    void xsetNumberArray(org.openuri.xstypes.test.Person.Number[] numberArray);
+    
+    /**
+     * Sets (as xml) ith "number" element
+     */
+    void xsetNumberArray(int i, org.openuri.xstypes.test.Person.Number number);
+    
+    /**
+     * Inserts the value as the ith "number" element
+     */
+    void insertNumber(int i, int number);
+    
+    /**
+     * Appends the value as the last "number" element
+     */
+    void addNumber(int number);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "number" element
+     */
+    org.openuri.xstypes.test.Person.Number insertNewNumber(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "number" element
+     */
+    org.openuri.xstypes.test.Person.Number addNewNumber();
+    
+    /**
+     * Removes the ith "number" element
+     */
+    void removeNumber(int i);
+    
+    /**
+     * Gets array of all "birthday" elements
+     */
+    java.util.Calendar[] getBirthdayArray();
+    
+    /**
+     * Gets ith "birthday" element
+     */
+    java.util.Calendar getBirthdayArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "birthday" elements
+     */
+    org.apache.xmlbeans.XmlDate[] xgetBirthdayArray();
+    
+    /**
+     * Gets (as xml) ith "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate xgetBirthdayArray(int i);
+    
+    /**
+     * Returns number of "birthday" element
+     */
+    int sizeOfBirthdayArray();
+    
+    /**
+     * Sets array of all "birthday" element
+     */
+    void setBirthdayArray(java.util.Calendar[] birthdayArray);
+    
+    /**
+     * Sets ith "birthday" element
+     */
+    void setBirthdayArray(int i, java.util.Calendar birthday);
+    
+    /**
+     * Sets (as xml) array of all "birthday" element
+     */
+    void xsetBirthdayArray(org.apache.xmlbeans.XmlDate[] birthdayArray);
+    
+    /**
+     * Sets (as xml) ith "birthday" element
+     */
+    void xsetBirthdayArray(int i, org.apache.xmlbeans.XmlDate birthday);
+    
+    /**
+     * Inserts the value as the ith "birthday" element
+     */
+    void insertBirthday(int i, java.util.Calendar birthday);
+    
+    /**
+     * Appends the value as the last "birthday" element
+     */
+    void addBirthday(java.util.Calendar birthday);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate insertNewBirthday(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "birthday" element
+     */
+    org.apache.xmlbeans.XmlDate addNewBirthday();
+    
+    /**
+     * Removes the ith "birthday" element
+     */
+    void removeBirthday(int i);
+    
+    /**
+     * Gets array of all "int-value" elements
+     */
+    int[] getIntValue1Array();
+    
+    /**
+     * Gets ith "int-value" element
+     */
+    int getIntValue1Array(int i);
+    
+    /**
+     * Gets (as xml) array of all "int-value" elements
+     */
+    org.apache.xmlbeans.XmlInt[] xgetIntValue1Array();
+    
+    /**
+     * Gets (as xml) ith "int-value" element
+     */
+    org.apache.xmlbeans.XmlInt xgetIntValue1Array(int i);
+    
+    /**
+     * Returns number of "int-value" element
+     */
+    int sizeOfIntValue1Array();
+    
+    /**
+     * Sets array of all "int-value" element
+     */
+    void setIntValue1Array(int[] intValue1Array);
+    
+    /**
+     * Sets ith "int-value" element
+     */
+    void setIntValue1Array(int i, int intValue1);
+    
+    /**
+     * Sets (as xml) array of all "int-value" element
+     */
+    void xsetIntValue1Array(org.apache.xmlbeans.XmlInt[] intValue1Array);
+    
+    /**
+     * Sets (as xml) ith "int-value" element
+     */
+    void xsetIntValue1Array(int i, org.apache.xmlbeans.XmlInt intValue1);
+    
+    /**
+     * Inserts the value as the ith "int-value" element
+     */
+    void insertIntValue1(int i, int intValue1);
+    
+    /**
+     * Appends the value as the last "int-value" element
+     */
+    void addIntValue1(int intValue1);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "int-value" element
+     */
+    org.apache.xmlbeans.XmlInt insertNewIntValue1(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "int-value" element
+     */
+    org.apache.xmlbeans.XmlInt addNewIntValue1();
+    
+    /**
+     * Removes the ith "int-value" element
+     */
+    void removeIntValue1(int i);
+    
+    /**
+     * Gets the "hex" element
+     */
+    byte[] getHex();
+    
+    /**
+     * Gets (as xml) the "hex" element
+     */
+    org.apache.xmlbeans.XmlHexBinary xgetHex();
+    
+    /**
+     * Sets the "hex" element
+     */
+    void setHex(byte[] hex);
+    
+    /**
+     * Sets (as xml) the "hex" element
+     */
+    void xsetHex(org.apache.xmlbeans.XmlHexBinary hex);
+    
+    /**
+     * Gets the bytes of the "hex" element as a stream, decoded as it is read
+     */
+    java.io.InputStream getHexStream();
+    
+    /**
+     * Sets the "hex" element to the bytes read from the stream
+     */
+    void setHexStream(java.io.InputStream hexStream) throws java.io.IOException;
+    
+    /**
+     * Gets the "base64" element
+     */
+    byte[] getBase64();
+    
+    /**
+     * Gets (as xml) the "base64" element
+     */
+    org.apache.xmlbeans.XmlBase64Binary xgetBase64();
+    
+    /**
+     * Sets the "base64" element
+     */
+    void setBase64(byte[] base64);
+    
+    /**
+     * Sets (as xml) the "base64" element
+     */
+    void xsetBase64(org.apache.xmlbeans.XmlBase64Binary base64);
+    
+    /**
+     * Gets the bytes of the "base64" element as a stream, decoded as it is read
+     */
+    java.io.InputStream getBase64Stream();
+    
+    /**
+     * Sets the "base64" element to the bytes read from the stream
+     */
+    void setBase64Stream(java.io.InputStream base64Stream) throws java.io.IOException;
+    
+    /**
+     * Gets the "anyuri" element
+     */
+    java.lang.String getAnyuri();
+    
+    /**
+     * Gets (as xml) the "anyuri" element
+     */
+    org.apache.xmlbeans.XmlAnyURI xgetAnyuri();
+    
+    /**
+     * Sets the "anyuri" element
+     */
+    void setAnyuri(java.lang.String anyuri);
+    
+    /**
+     * Sets (as xml) the "anyuri" element
+     */
+    void xsetAnyuri(org.apache.xmlbeans.XmlAnyURI anyuri);
+    
+    /**
+     * Gets the "qname" element
+     */
+    javax.xml.namespace.QName getQname();
+    
+    /**
+     * Gets (as xml) the "qname" element
+     */
+    org.apache.xmlbeans.XmlQName xgetQname();
+    
+    /**
+     * Sets the "qname" element
+     */
+    void setQname(javax.xml.namespace.QName qname);
+    
+    /**
+     * Sets (as xml) the "qname" element
+     */
+    void xsetQname(org.apache.xmlbeans.XmlQName qname);
+    
+    /**
+     * Gets the "notation" element
+     */
+    org.openuri.xstypes.test.Person.Notation getNotation();
+    
+    /**
+     * Sets the "notation" element
+     */
+    void setNotation(org.openuri.xstypes.test.Person.Notation notation);
+    
+    /**
+     * Appends and returns a new empty "notation" element
+     */
+    org.openuri.xstypes.test.Person.Notation addNewNotation();
+    
+    /**
+     * Gets the "gender" attribute
+     */
+    org.openuri.xstypes.test.Person.Gender.Enum getGender();
+    
+    /**
+     * Gets (as xml) the "gender" attribute
+     */
+    org.openuri.xstypes.test.Person.Gender xgetGender();
+    
+    /**
+     * True if has "gender" attribute
+     */
+    boolean isSetGender();
+    
+    /**
+     * Sets the "gender" attribute
+     */
+    void setGender(org.openuri.xstypes.test.Person.Gender.Enum gender);
+    
+    /**
+     * Sets (as xml) the "gender" attribute
+     */
+    void xsetGender(org.openuri.xstypes.test.Person.Gender gender);
+    
+    /**
+     * Unsets the "gender" attribute
+     */
+    void unsetGender();
+    
+    /**
+     * Gets the "hexAtt" attribute
+     */
+    byte[] getHexAtt();
+    
+    /**
+     * Gets (as xml) the "hexAtt" attribute
+     */
+    org.openuri.xstypes.test.Person.HexAtt xgetHexAtt();
+    
+    /**
+     * True if has "hexAtt" attribute
+     */
+    boolean isSetHexAtt();
+    
+    /**
+     * Sets the "hexAtt" attribute
+     */
+    void setHexAtt(byte[] hexAtt);
+    
+    /**
+     * Sets (as xml) the "hexAtt" attribute
+     */
+    void xsetHexAtt(org.openuri.xstypes.test.Person.HexAtt hexAtt);
+    
+    /**
+     * Unsets the "hexAtt" attribute
+     */
+    void unsetHexAtt();
+    
+    /**
+     * Gets the bytes of the "hexAtt" attribute as a stream, decoded as it is read
+     */
+    java.io.InputStream getHexAttStream();
+    
+    /**
+     * Sets the "hexAtt" attribute to the bytes read from the stream
+     */
+    void setHexAttStream(java.io.InputStream hexAttStream) throws java.io.IOException;
+    
+    /**
+     * Gets the "base64Att" attribute
+     */
+    byte[] getBase64Att();
+    
+    /**
+     * Gets (as xml) the "base64Att" attribute
+     */
+    org.openuri.xstypes.test.Person.Base64Att xgetBase64Att();
+    
+    /**
+     * True if has "base64Att" attribute
+     */
+    boolean isSetBase64Att();
+    
+    /**
+     * Sets the "base64Att" attribute
+     */
+    void setBase64Att(byte[] base64Att);
+    
+    /**
+     * Sets (as xml) the "base64Att" attribute
+     */
+    void xsetBase64Att(org.openuri.xstypes.test.Person.Base64Att base64Att);
+    
+    /**
+     * Unsets the "base64Att" attribute
+     */
+    void unsetBase64Att();
+    
+    /**
+     * Gets the bytes of the "base64Att" attribute as a stream, decoded as it is read
+     */
+    java.io.InputStream getBase64AttStream();
+    
+    /**
+     * Sets the "base64Att" attribute to the bytes read from the stream
+     */
+    void setBase64AttStream(java.io.InputStream base64AttStream) throws java.io.IOException;
+    
+    /**
+     * Gets the "anyuriAtt" attribute
+     */
+    java.lang.String getAnyuriAtt();
+    
+    /**
+     * Gets (as xml) the "anyuriAtt" attribute
+     */
+    org.openuri.xstypes.test.Person.AnyuriAtt xgetAnyuriAtt();
+    
+    /**
+     * True if has "anyuriAtt" attribute
+     */
+    boolean isSetAnyuriAtt();
+    
+    /**
+     * Sets the "anyuriAtt" attribute
+     */
+    void setAnyuriAtt(java.lang.String anyuriAtt);
+    
+    /**
+     * Sets (as xml) the "anyuriAtt" attribute
+     */
+    void xsetAnyuriAtt(org.openuri.xstypes.test.Person.AnyuriAtt anyuriAtt);
+    
+    /**
+     * Unsets the "anyuriAtt" attribute
+     */
+    void unsetAnyuriAtt();
+    
+    /**
+     * Gets the "qnameAtt" attribute
+     */
+    javax.xml.namespace.QName getQnameAtt();
+    
+    /**
+     * Gets (as xml) the "qnameAtt" attribute
+     */
+    org.openuri.xstypes.test.Person.QnameAtt xgetQnameAtt();
+    
+    /**
+     * True if has "qnameAtt" attribute
+     */
+    boolean isSetQnameAtt();
+    
+    /**
+     * Sets the "qnameAtt" attribute
+     */
+    void setQnameAtt(javax.xml.namespace.QName qnameAtt);
+    
+    /**
+     * Sets (as xml) the "qnameAtt" attribute
+     */
+    void xsetQnameAtt(org.openuri.xstypes.test.Person.QnameAtt qnameAtt);
+    
+    /**
+     * Unsets the "qnameAtt" attribute
+     */
+    void unsetQnameAtt();
+    
+    /**
+     * Gets the "notationAtt" attribute
+     */
+    org.openuri.xstypes.test.Person.NotationAtt getNotationAtt();
+    
+    /**
+     * True if has "notationAtt" attribute
+     */
+    boolean isSetNotationAtt();
+    
+    /**
+     * Sets the "notationAtt" attribute
+     */
+    void setNotationAtt(org.openuri.xstypes.test.Person.NotationAtt notationAtt);
+    
+    /**
+     * Appends and returns a new empty "notationAtt" attribute
+     */
+    org.openuri.xstypes.test.Person.NotationAtt addNewNotationAtt();
+    
+    /**
+     * Unsets the "notationAtt" attribute
+     */
+    void unsetNotationAtt();
+    
+    /**
+     * An XML number(@http://openuri.org/xstypes/test).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Number.
+     */
+    public interface Number extends org.apache.xmlbeans.XmlInteger
+    {
+        int getIntValue();
+        void setIntValue(int i);
+        /** @deprecated */
+        int intValue();
+        /** @deprecated */
+        void set(int i);
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Number.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("number2305elemtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.Number newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.Number) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.Number newInstance() {
+              return (org.openuri.xstypes.test.Person.Number) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.Number newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.Number) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML notation(@http://openuri.org/xstypes/test).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Notation.
+     */
+    public interface Notation extends org.apache.xmlbeans.XmlNOTATION
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Notation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("notation8c6celemtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.Notation newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.Notation) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.Notation newInstance() {
+              return (org.openuri.xstypes.test.Person.Notation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.Notation newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.Notation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML gender(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Gender.
+     */
+    public interface Gender extends org.apache.xmlbeans.XmlNMTOKEN
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Gender.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("gender6a89attrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum MALE = Enum.forString("male");
+        static final Enum FEMALE = Enum.forString("female");
+        
+        static final int INT_MALE = Enum.INT_MALE;
+        static final int INT_FEMALE = Enum.INT_FEMALE;
+        
+        /**
+         * Enumeration value class for org.openuri.xstypes.test.Person$Gender.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_MALE
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_MALE = 1;
+            static final int INT_FEMALE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("male", INT_MALE),
+                    new Enum("female", INT_FEMALE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.Gender newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.Gender) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.Gender newInstance() {
+              return (org.openuri.xstypes.test.Person.Gender) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.Gender newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.Gender) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML hexAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$HexAtt.
+     */
+    public interface HexAtt extends org.apache.xmlbeans.XmlHexBinary
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HexAtt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("hexatta964attrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.HexAtt newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.HexAtt) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.HexAtt newInstance() {
+              return (org.openuri.xstypes.test.Person.HexAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.HexAtt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.HexAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML base64Att(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Base64Att.
+     */
+    public interface Base64Att extends org.apache.xmlbeans.XmlBase64Binary
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Base64Att.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("base64attd250attrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.Base64Att newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.Base64Att) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.Base64Att newInstance() {
+              return (org.openuri.xstypes.test.Person.Base64Att) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.Base64Att newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.Base64Att) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML anyuriAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$AnyuriAtt.
+     */
+    public interface AnyuriAtt extends org.apache.xmlbeans.XmlAnyURI
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AnyuriAtt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("anyuriatta381attrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.AnyuriAtt newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.AnyuriAtt) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.AnyuriAtt newInstance() {
+              return (org.openuri.xstypes.test.Person.AnyuriAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.AnyuriAtt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.AnyuriAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML qnameAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$QnameAtt.
+     */
+    public interface QnameAtt extends org.apache.xmlbeans.XmlQName
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(QnameAtt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("qnameatt9a45attrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.QnameAtt newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.QnameAtt) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.QnameAtt newInstance() {
+              return (org.openuri.xstypes.test.Person.QnameAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.QnameAtt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.QnameAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML notationAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$NotationAtt.
+     */
+    public interface NotationAtt extends org.apache.xmlbeans.XmlNOTATION
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(NotationAtt.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("notationattb983attrtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.xstypes.test.Person.NotationAtt newValue(java.lang.Object obj) {
+              return (org.openuri.xstypes.test.Person.NotationAtt) type.newValue( obj ); }
+            
+            public static org.openuri.xstypes.test.Person.NotationAtt newInstance() {
+              return (org.openuri.xstypes.test.Person.NotationAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.xstypes.test.Person.NotationAtt newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.xstypes.test.Person.NotationAtt) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.xstypes.test.Person newInstance() {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.xstypes.test.Person newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.xstypes.test.Person parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.xstypes.test.Person parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.xstypes.test.Person parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.xstypes.test.Person parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.xstypes.test.Person parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.xstypes.test.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.xstypes.test.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.xstypes.test.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
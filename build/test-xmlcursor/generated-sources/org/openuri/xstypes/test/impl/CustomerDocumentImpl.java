@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: customer
+ * Namespace: http://openuri.org/xstypes/test
+ * Java type: org.openuri.xstypes.test.CustomerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.xstypes.test.impl;
+/**
+ * A document containing one customer(@http://openuri.org/xstypes/test) element.
+ *
+ * This is a complex type.
+ */
+public class CustomerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.xstypes.test.CustomerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CustomerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CUSTOMER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "customer");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 606175198:
+                if (name.equals(CUSTOMER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "customer" element
+     */
+    public org.openuri.xstypes.test.Person getCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person target = null;
+            target = (org.openuri.xstypes.test.Person)get_store().find_element_user(CUSTOMER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "customer" element
+     */
+    public void setCustomer(org.openuri.xstypes.test.Person customer)
+    {
+        generatedSetterHelperImpl(customer, CUSTOMER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "customer" element
+     */
+    public org.openuri.xstypes.test.Person addNewCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person target = null;
+            target = (org.openuri.xstypes.test.Person)get_store().add_element_user(CUSTOMER$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * An XML document type.
+ * Localname: employee
+ * Namespace: http://openuri.org/xstypes/test
+ * Java type: org.openuri.xstypes.test.EmployeeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.xstypes.test.impl;
+/**
+ * A document containing one employee(@http://openuri.org/xstypes/test) element.
+ *
+ * This is a complex type.
+ */
+public class EmployeeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.xstypes.test.EmployeeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmployeeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPLOYEE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "employee");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1193469614:
+                if (name.equals(EMPLOYEE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "employee" element
+     */
+    public org.openuri.xstypes.test.EmployeeDocument.Employee getEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.EmployeeDocument.Employee target = null;
+            target = (org.openuri.xstypes.test.EmployeeDocument.Employee)get_store().find_element_user(EMPLOYEE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "employee" element
+     */
+    public void setEmployee(org.openuri.xstypes.test.EmployeeDocument.Employee employee)
+    {
+        generatedSetterHelperImpl(employee, EMPLOYEE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "employee" element
+     */
+    public org.openuri.xstypes.test.EmployeeDocument.Employee addNewEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.EmployeeDocument.Employee target = null;
+            target = (org.openuri.xstypes.test.EmployeeDocument.Employee)get_store().add_element_user(EMPLOYEE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML employee(@http://openuri.org/xstypes/test).
+     *
+     * This is a complex type.
+     */
+    public static class EmployeeImpl extends org.openuri.xstypes.test.impl.PersonImpl implements org.openuri.xstypes.test.EmployeeDocument.Employee
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EmployeeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName EID$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "eid");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 100416:
+                    if (name.equals(EID$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "eid" element
+         */
+        public int getEid()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(EID$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EID$0, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "eid" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetEid()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(EID$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "eid" element
+         */
+        public void setEid(int eid)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EID$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EID$0);
+                }
+                target.setIntValue(eid);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "eid" element
+         */
+        public void xsetEid(org.apache.xmlbeans.XmlInt eid)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(EID$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(EID$0);
+                }
+                target.set(eid);
+            }
+        }
+    }
+}
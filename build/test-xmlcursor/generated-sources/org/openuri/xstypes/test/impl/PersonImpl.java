@@ -0,0 +1,1949 @@
+/*
+ * XML Type:  person
+ * Namespace: http://openuri.org/xstypes/test
+ * Java type: org.openuri.xstypes.test.Person
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.xstypes.test.impl;
+/**
+ * An XML person(@http://openuri.org/xstypes/test).
+ *
+ * This is a complex type.
+ */
+public class PersonImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.xstypes.test.Person
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRSTNAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "firstname");
+    private static final javax.xml.namespace.QName NUMBER$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "number");
+    private static final javax.xml.namespace.QName BIRTHDAY$4 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "birthday");
+    private static final javax.xml.namespace.QName INTVALUE1$6 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "int-value");
+    private static final javax.xml.namespace.QName HEX$8 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "hex");
+    private static final javax.xml.namespace.QName BASE64$10 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "base64");
+    private static final javax.xml.namespace.QName ANYURI$12 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "anyuri");
+    private static final javax.xml.namespace.QName QNAME$14 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "qname");
+    private static final javax.xml.namespace.QName NOTATION$16 = 
+        new javax.xml.namespace.QName("http://openuri.org/xstypes/test", "notation");
+    private static final javax.xml.namespace.QName GENDER$18 = 
+        new javax.xml.namespace.QName("", "gender");
+    private static final javax.xml.namespace.QName HEXATT$20 = 
+        new javax.xml.namespace.QName("", "hexAtt");
+    private static final javax.xml.namespace.QName BASE64ATT$22 = 
+        new javax.xml.namespace.QName("", "base64Att");
+    private static final javax.xml.namespace.QName ANYURIATT$24 = 
+        new javax.xml.namespace.QName("", "anyuriAtt");
+    private static final javax.xml.namespace.QName QNAMEATT$26 = 
+        new javax.xml.namespace.QName("", "qnameAtt");
+    private static final javax.xml.namespace.QName NOTATIONATT$28 = 
+        new javax.xml.namespace.QName("", "notationAtt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(9);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1412631552:
+                if (name.equals(ANYURI$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case -1396204209:
+                if (name.equals(BASE64$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -1097052653:
+                if (name.equals(INTVALUE1$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1034364087:
+                if (name.equals(NUMBER$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 103195:
+                if (name.equals(HEX$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 107731580:
+                if (name.equals(QNAME$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 133788987:
+                if (name.equals(FIRSTNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1069376125:
+                if (name.equals(BIRTHDAY$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1578392578:
+                if (name.equals(NOTATION$16))
+                    return ORDINAL$BASE + 8;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "firstname" element
+     */
+    public java.lang.String getFirstname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "firstname" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFirstname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "firstname" element
+     */
+    public void setFirstname(java.lang.String firstname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.setStringValue(firstname);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "firstname" element
+     */
+    public void xsetFirstname(org.apache.xmlbeans.XmlString firstname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRSTNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRSTNAME$0);
+            }
+            target.set(firstname);
+        }
+    }
+    
+    /**
+     * Gets array of all "number" elements
+     */
+    public int[] getNumberArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NUMBER$2, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "number" element
+     */
+    public int getNumberArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(NUMBER$2, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBER$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "number" elements
+     */
+    public org.openuri.xstypes.test.Person.Number[] xgetNumberArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NUMBER$2, targetList);
+            org.openuri.xstypes.test.Person.Number[] result = new org.openuri.xstypes.test.Person.Number[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "number" element
+     */
+    public org.openuri.xstypes.test.Person.Number xgetNumberArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Number target = null;
+            target = (org.openuri.xstypes.test.Person.Number)get_store().find_element_user(NUMBER$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "number" element
+     */
+    public int sizeOfNumberArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NUMBER$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "number" element
+     */
+    public void setNumberArray(int[] numberArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(numberArray, NUMBER$2);
+        }
+    }
+    
+    /**
+     * Sets ith "number" element
+     */
+    public void setNumberArray(int i, int number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBER$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(number);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "number" element
+     */
+    public void xsetNumberArray(org.openuri.xstypes.test.Person.Number[]numberArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(numberArray, NUMBER$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "number" element
+     */
+    public void xsetNumberArray(int i, org.openuri.xstypes.test.Person.Number number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Number target = null;
+            target = (org.openuri.xstypes.test.Person.Number)get_store().find_element_user(NUMBER$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(number);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "number" element
+     */
+    public void insertNumber(int i, int number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NUMBER$2, i);
+            target.setIntValue(number);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "number" element
+     */
+    public void addNumber(int number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NUMBER$2);
+            target.setIntValue(number);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "number" element
+     */
+    public org.openuri.xstypes.test.Person.Number insertNewNumber(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Number target = null;
+            target = (org.openuri.xstypes.test.Person.Number)get_store().insert_element_user(NUMBER$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "number" element
+     */
+    public org.openuri.xstypes.test.Person.Number addNewNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Number target = null;
+            target = (org.openuri.xstypes.test.Person.Number)get_store().add_element_user(NUMBER$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "number" element
+     */
+    public void removeNumber(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NUMBER$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "birthday" elements
+     */
+    public java.util.Calendar[] getBirthdayArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(BIRTHDAY$4, targetList);
+            java.util.Calendar[] result = new java.util.Calendar[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getCalendarValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "birthday" element
+     */
+    public java.util.Calendar getBirthdayArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BIRTHDAY$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "birthday" elements
+     */
+    public org.apache.xmlbeans.XmlDate[] xgetBirthdayArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(BIRTHDAY$4, targetList);
+            org.apache.xmlbeans.XmlDate[] result = new org.apache.xmlbeans.XmlDate[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "birthday" element
+     */
+    public org.apache.xmlbeans.XmlDate xgetBirthdayArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(BIRTHDAY$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "birthday" element
+     */
+    public int sizeOfBirthdayArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(BIRTHDAY$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "birthday" element
+     */
+    public void setBirthdayArray(java.util.Calendar[] birthdayArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(birthdayArray, BIRTHDAY$4);
+        }
+    }
+    
+    /**
+     * Sets ith "birthday" element
+     */
+    public void setBirthdayArray(int i, java.util.Calendar birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BIRTHDAY$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setCalendarValue(birthday);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "birthday" element
+     */
+    public void xsetBirthdayArray(org.apache.xmlbeans.XmlDate[]birthdayArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(birthdayArray, BIRTHDAY$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "birthday" element
+     */
+    public void xsetBirthdayArray(int i, org.apache.xmlbeans.XmlDate birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(BIRTHDAY$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(birthday);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "birthday" element
+     */
+    public void insertBirthday(int i, java.util.Calendar birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(BIRTHDAY$4, i);
+            target.setCalendarValue(birthday);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "birthday" element
+     */
+    public void addBirthday(java.util.Calendar birthday)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BIRTHDAY$4);
+            target.setCalendarValue(birthday);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "birthday" element
+     */
+    public org.apache.xmlbeans.XmlDate insertNewBirthday(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().insert_element_user(BIRTHDAY$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "birthday" element
+     */
+    public org.apache.xmlbeans.XmlDate addNewBirthday()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(BIRTHDAY$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "birthday" element
+     */
+    public void removeBirthday(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(BIRTHDAY$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "int-value" elements
+     */
+    public int[] getIntValue1Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INTVALUE1$6, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "int-value" element
+     */
+    public int getIntValue1Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(INTVALUE1$6, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTVALUE1$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "int-value" elements
+     */
+    public org.apache.xmlbeans.XmlInt[] xgetIntValue1Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INTVALUE1$6, targetList);
+            org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "int-value" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetIntValue1Array(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INTVALUE1$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "int-value" element
+     */
+    public int sizeOfIntValue1Array()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INTVALUE1$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "int-value" element
+     */
+    public void setIntValue1Array(int[] intValue1Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(intValue1Array, INTVALUE1$6);
+        }
+    }
+    
+    /**
+     * Sets ith "int-value" element
+     */
+    public void setIntValue1Array(int i, int intValue1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTVALUE1$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(intValue1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "int-value" element
+     */
+    public void xsetIntValue1Array(org.apache.xmlbeans.XmlInt[]intValue1Array)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(intValue1Array, INTVALUE1$6);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "int-value" element
+     */
+    public void xsetIntValue1Array(int i, org.apache.xmlbeans.XmlInt intValue1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INTVALUE1$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(intValue1);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "int-value" element
+     */
+    public void insertIntValue1(int i, int intValue1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INTVALUE1$6, i);
+            target.setIntValue(intValue1);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "int-value" element
+     */
+    public void addIntValue1(int intValue1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INTVALUE1$6);
+            target.setIntValue(intValue1);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "int-value" element
+     */
+    public org.apache.xmlbeans.XmlInt insertNewIntValue1(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(INTVALUE1$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "int-value" element
+     */
+    public org.apache.xmlbeans.XmlInt addNewIntValue1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(INTVALUE1$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "int-value" element
+     */
+    public void removeIntValue1(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INTVALUE1$6, i);
+        }
+    }
+    
+    /**
+     * Gets the "hex" element
+     */
+    public byte[] getHex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HEX$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getByteArrayValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "hex" element
+     */
+    public org.apache.xmlbeans.XmlHexBinary xgetHex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlHexBinary target = null;
+            target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEX$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "hex" element
+     */
+    public void setHex(byte[] hex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HEX$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HEX$8);
+            }
+            target.setByteArrayValue(hex);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "hex" element
+     */
+    public void xsetHex(org.apache.xmlbeans.XmlHexBinary hex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlHexBinary target = null;
+            target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEX$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().add_element_user(HEX$8);
+            }
+            target.set(hex);
+        }
+    }
+    
+    /**
+     * Gets the bytes of the "hex" element as a stream, decoded as it is read
+     */
+    public java.io.InputStream getHexStream()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlHexBinary target = null;
+            target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEX$8, 0);
+            if (target == null) return null;
+            return target.getByteStreamValue();
+        }
+    }
+    
+    /**
+     * Sets the "hex" element to the bytes read from the stream
+     */
+    public void setHexStream(java.io.InputStream hexStream) throws java.io.IOException
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlHexBinary target = null;
+            target = (org.apache.xmlbeans.XmlHexBinary)get_store().find_element_user(HEX$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlHexBinary)get_store().add_element_user(HEX$8);
+            }
+            target.setByteStreamValue(hexStream);
+        }
+    }
+    
+    /**
+     * Gets the "base64" element
+     */
+    public byte[] getBase64()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BASE64$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getByteArrayValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "base64" element
+     */
+    public org.apache.xmlbeans.XmlBase64Binary xgetBase64()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBase64Binary target = null;
+            target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "base64" element
+     */
+    public void setBase64(byte[] base64)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BASE64$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BASE64$10);
+            }
+            target.setByteArrayValue(base64);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "base64" element
+     */
+    public void xsetBase64(org.apache.xmlbeans.XmlBase64Binary base64)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBase64Binary target = null;
+            target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().add_element_user(BASE64$10);
+            }
+            target.set(base64);
+        }
+    }
+    
+    /**
+     * Gets the bytes of the "base64" element as a stream, decoded as it is read
+     */
+    public java.io.InputStream getBase64Stream()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBase64Binary target = null;
+            target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64$10, 0);
+            if (target == null) return null;
+            return target.getByteStreamValue();
+        }
+    }
+    
+    /**
+     * Sets the "base64" element to the bytes read from the stream
+     */
+    public void setBase64Stream(java.io.InputStream base64Stream) throws java.io.IOException
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBase64Binary target = null;
+            target = (org.apache.xmlbeans.XmlBase64Binary)get_store().find_element_user(BASE64$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlBase64Binary)get_store().add_element_user(BASE64$10);
+            }
+            target.setByteStreamValue(base64Stream);
+        }
+    }
+    
+    /**
+     * Gets the "anyuri" element
+     */
+    public java.lang.String getAnyuri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANYURI$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "anyuri" element
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetAnyuri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(ANYURI$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "anyuri" element
+     */
+    public void setAnyuri(java.lang.String anyuri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANYURI$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ANYURI$12);
+            }
+            target.setStringValue(anyuri);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "anyuri" element
+     */
+    public void xsetAnyuri(org.apache.xmlbeans.XmlAnyURI anyuri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_element_user(ANYURI$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_element_user(ANYURI$12);
+            }
+            target.set(anyuri);
+        }
+    }
+    
+    /**
+     * Gets the "qname" element
+     */
+    public javax.xml.namespace.QName getQname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QNAME$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getQNameValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "qname" element
+     */
+    public org.apache.xmlbeans.XmlQName xgetQname()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_element_user(QNAME$14, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "qname" element
+     */
+    public void setQname(javax.xml.namespace.QName qname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QNAME$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QNAME$14);
+            }
+            target.setQNameValue(qname);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "qname" element
+     */
+    public void xsetQname(org.apache.xmlbeans.XmlQName qname)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlQName target = null;
+            target = (org.apache.xmlbeans.XmlQName)get_store().find_element_user(QNAME$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlQName)get_store().add_element_user(QNAME$14);
+            }
+            target.set(qname);
+        }
+    }
+    
+    /**
+     * Gets the "notation" element
+     */
+    public org.openuri.xstypes.test.Person.Notation getNotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Notation target = null;
+            target = (org.openuri.xstypes.test.Person.Notation)get_store().find_element_user(NOTATION$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "notation" element
+     */
+    public void setNotation(org.openuri.xstypes.test.Person.Notation notation)
+    {
+        generatedSetterHelperImpl(notation, NOTATION$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "notation" element
+     */
+    public org.openuri.xstypes.test.Person.Notation addNewNotation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Notation target = null;
+            target = (org.openuri.xstypes.test.Person.Notation)get_store().add_element_user(NOTATION$16);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "gender" attribute
+     */
+    public org.openuri.xstypes.test.Person.Gender.Enum getGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GENDER$18);
+            if (target == null)
+            {
+                return null;
+            }
+            return (org.openuri.xstypes.test.Person.Gender.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "gender" attribute
+     */
+    public org.openuri.xstypes.test.Person.Gender xgetGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Gender target = null;
+            target = (org.openuri.xstypes.test.Person.Gender)get_store().find_attribute_user(GENDER$18);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "gender" attribute
+     */
+    public boolean isSetGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(GENDER$18) != null;
+        }
+    }
+    
+    /**
+     * Sets the "gender" attribute
+     */
+    public void setGender(org.openuri.xstypes.test.Person.Gender.Enum gender)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(GENDER$18);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(GENDER$18);
+            }
+            target.setEnumValue(gender);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "gender" attribute
+     */
+    public void xsetGender(org.openuri.xstypes.test.Person.Gender gender)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Gender target = null;
+            target = (org.openuri.xstypes.test.Person.Gender)get_store().find_attribute_user(GENDER$18);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.Gender)get_store().add_attribute_user(GENDER$18);
+            }
+            target.set(gender);
+        }
+    }
+    
+    /**
+     * Unsets the "gender" attribute
+     */
+    public void unsetGender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(GENDER$18);
+        }
+    }
+    
+    /**
+     * Gets the "hexAtt" attribute
+     */
+    public byte[] getHexAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HEXATT$20);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getByteArrayValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "hexAtt" attribute
+     */
+    public org.openuri.xstypes.test.Person.HexAtt xgetHexAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.HexAtt target = null;
+            target = (org.openuri.xstypes.test.Person.HexAtt)get_store().find_attribute_user(HEXATT$20);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "hexAtt" attribute
+     */
+    public boolean isSetHexAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(HEXATT$20) != null;
+        }
+    }
+    
+    /**
+     * Sets the "hexAtt" attribute
+     */
+    public void setHexAtt(byte[] hexAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(HEXATT$20);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(HEXATT$20);
+            }
+            target.setByteArrayValue(hexAtt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "hexAtt" attribute
+     */
+    public void xsetHexAtt(org.openuri.xstypes.test.Person.HexAtt hexAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.HexAtt target = null;
+            target = (org.openuri.xstypes.test.Person.HexAtt)get_store().find_attribute_user(HEXATT$20);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.HexAtt)get_store().add_attribute_user(HEXATT$20);
+            }
+            target.set(hexAtt);
+        }
+    }
+    
+    /**
+     * Unsets the "hexAtt" attribute
+     */
+    public void unsetHexAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(HEXATT$20);
+        }
+    }
+    
+    /**
+     * Gets the bytes of the "hexAtt" attribute as a stream, decoded as it is read
+     */
+    public java.io.InputStream getHexAttStream()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.HexAtt target = null;
+            target = (org.openuri.xstypes.test.Person.HexAtt)get_store().find_attribute_user(HEXATT$20);
+            if (target == null) return null;
+            return target.getByteStreamValue();
+        }
+    }
+    
+    /**
+     * Sets the "hexAtt" attribute to the bytes read from the stream
+     */
+    public void setHexAttStream(java.io.InputStream hexAttStream) throws java.io.IOException
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.HexAtt target = null;
+            target = (org.openuri.xstypes.test.Person.HexAtt)get_store().find_attribute_user(HEXATT$20);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.HexAtt)get_store().add_attribute_user(HEXATT$20);
+            }
+            target.setByteStreamValue(hexAttStream);
+        }
+    }
+    
+    /**
+     * Gets the "base64Att" attribute
+     */
+    public byte[] getBase64Att()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BASE64ATT$22);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getByteArrayValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "base64Att" attribute
+     */
+    public org.openuri.xstypes.test.Person.Base64Att xgetBase64Att()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Base64Att target = null;
+            target = (org.openuri.xstypes.test.Person.Base64Att)get_store().find_attribute_user(BASE64ATT$22);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "base64Att" attribute
+     */
+    public boolean isSetBase64Att()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(BASE64ATT$22) != null;
+        }
+    }
+    
+    /**
+     * Sets the "base64Att" attribute
+     */
+    public void setBase64Att(byte[] base64Att)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(BASE64ATT$22);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(BASE64ATT$22);
+            }
+            target.setByteArrayValue(base64Att);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "base64Att" attribute
+     */
+    public void xsetBase64Att(org.openuri.xstypes.test.Person.Base64Att base64Att)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Base64Att target = null;
+            target = (org.openuri.xstypes.test.Person.Base64Att)get_store().find_attribute_user(BASE64ATT$22);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.Base64Att)get_store().add_attribute_user(BASE64ATT$22);
+            }
+            target.set(base64Att);
+        }
+    }
+    
+    /**
+     * Unsets the "base64Att" attribute
+     */
+    public void unsetBase64Att()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(BASE64ATT$22);
+        }
+    }
+    
+    /**
+     * Gets the bytes of the "base64Att" attribute as a stream, decoded as it is read
+     */
+    public java.io.InputStream getBase64AttStream()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Base64Att target = null;
+            target = (org.openuri.xstypes.test.Person.Base64Att)get_store().find_attribute_user(BASE64ATT$22);
+            if (target == null) return null;
+            return target.getByteStreamValue();
+        }
+    }
+    
+    /**
+     * Sets the "base64Att" attribute to the bytes read from the stream
+     */
+    public void setBase64AttStream(java.io.InputStream base64AttStream) throws java.io.IOException
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.Base64Att target = null;
+            target = (org.openuri.xstypes.test.Person.Base64Att)get_store().find_attribute_user(BASE64ATT$22);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.Base64Att)get_store().add_attribute_user(BASE64ATT$22);
+            }
+            target.setByteStreamValue(base64AttStream);
+        }
+    }
+    
+    /**
+     * Gets the "anyuriAtt" attribute
+     */
+    public java.lang.String getAnyuriAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ANYURIATT$24);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "anyuriAtt" attribute
+     */
+    public org.openuri.xstypes.test.Person.AnyuriAtt xgetAnyuriAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.AnyuriAtt target = null;
+            target = (org.openuri.xstypes.test.Person.AnyuriAtt)get_store().find_attribute_user(ANYURIATT$24);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "anyuriAtt" attribute
+     */
+    public boolean isSetAnyuriAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ANYURIATT$24) != null;
+        }
+    }
+    
+    /**
+     * Sets the "anyuriAtt" attribute
+     */
+    public void setAnyuriAtt(java.lang.String anyuriAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ANYURIATT$24);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ANYURIATT$24);
+            }
+            target.setStringValue(anyuriAtt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "anyuriAtt" attribute
+     */
+    public void xsetAnyuriAtt(org.openuri.xstypes.test.Person.AnyuriAtt anyuriAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.AnyuriAtt target = null;
+            target = (org.openuri.xstypes.test.Person.AnyuriAtt)get_store().find_attribute_user(ANYURIATT$24);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.AnyuriAtt)get_store().add_attribute_user(ANYURIATT$24);
+            }
+            target.set(anyuriAtt);
+        }
+    }
+    
+    /**
+     * Unsets the "anyuriAtt" attribute
+     */
+    public void unsetAnyuriAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ANYURIATT$24);
+        }
+    }
+    
+    /**
+     * Gets the "qnameAtt" attribute
+     */
+    public javax.xml.namespace.QName getQnameAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QNAMEATT$26);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getQNameValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "qnameAtt" attribute
+     */
+    public org.openuri.xstypes.test.Person.QnameAtt xgetQnameAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.QnameAtt target = null;
+            target = (org.openuri.xstypes.test.Person.QnameAtt)get_store().find_attribute_user(QNAMEATT$26);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "qnameAtt" attribute
+     */
+    public boolean isSetQnameAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(QNAMEATT$26) != null;
+        }
+    }
+    
+    /**
+     * Sets the "qnameAtt" attribute
+     */
+    public void setQnameAtt(javax.xml.namespace.QName qnameAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QNAMEATT$26);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QNAMEATT$26);
+            }
+            target.setQNameValue(qnameAtt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "qnameAtt" attribute
+     */
+    public void xsetQnameAtt(org.openuri.xstypes.test.Person.QnameAtt qnameAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.QnameAtt target = null;
+            target = (org.openuri.xstypes.test.Person.QnameAtt)get_store().find_attribute_user(QNAMEATT$26);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.QnameAtt)get_store().add_attribute_user(QNAMEATT$26);
+            }
+            target.set(qnameAtt);
+        }
+    }
+    
+    /**
+     * Unsets the "qnameAtt" attribute
+     */
+    public void unsetQnameAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(QNAMEATT$26);
+        }
+    }
+    
+    /**
+     * Gets the "notationAtt" attribute
+     */
+    public org.openuri.xstypes.test.Person.NotationAtt getNotationAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.NotationAtt target = null;
+            target = (org.openuri.xstypes.test.Person.NotationAtt)get_store().find_attribute_user(NOTATIONATT$28);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "notationAtt" attribute
+     */
+    public boolean isSetNotationAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NOTATIONATT$28) != null;
+        }
+    }
+    
+    /**
+     * Sets the "notationAtt" attribute
+     */
+    public void setNotationAtt(org.openuri.xstypes.test.Person.NotationAtt notationAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.NotationAtt target = null;
+            target = (org.openuri.xstypes.test.Person.NotationAtt)get_store().find_attribute_user(NOTATIONATT$28);
+            if (target == null)
+            {
+                target = (org.openuri.xstypes.test.Person.NotationAtt)get_store().add_attribute_user(NOTATIONATT$28);
+            }
+            target.set(notationAtt);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "notationAtt" attribute
+     */
+    public org.openuri.xstypes.test.Person.NotationAtt addNewNotationAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.xstypes.test.Person.NotationAtt target = null;
+            target = (org.openuri.xstypes.test.Person.NotationAtt)get_store().add_attribute_user(NOTATIONATT$28);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "notationAtt" attribute
+     */
+    public void unsetNotationAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NOTATIONATT$28);
+        }
+    }
+    /**
+     * An XML number(@http://openuri.org/xstypes/test).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Number.
+     */
+    public static class NumberImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.openuri.xstypes.test.Person.Number
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public NumberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected NumberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML notation(@http://openuri.org/xstypes/test).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Notation.
+     */
+    public static class NotationImpl extends org.apache.xmlbeans.impl.values.JavaNotationHolderEx implements org.openuri.xstypes.test.Person.Notation
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public NotationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected NotationImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML gender(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Gender.
+     */
+    public static class GenderImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.openuri.xstypes.test.Person.Gender
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public GenderImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected GenderImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML hexAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$HexAtt.
+     */
+    public static class HexAttImpl extends org.apache.xmlbeans.impl.values.JavaHexBinaryHolderEx implements org.openuri.xstypes.test.Person.HexAtt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public HexAttImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected HexAttImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML base64Att(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$Base64Att.
+     */
+    public static class Base64AttImpl extends org.apache.xmlbeans.impl.values.JavaBase64HolderEx implements org.openuri.xstypes.test.Person.Base64Att
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public Base64AttImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected Base64AttImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML anyuriAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$AnyuriAtt.
+     */
+    public static class AnyuriAttImpl extends org.apache.xmlbeans.impl.values.JavaUriHolderEx implements org.openuri.xstypes.test.Person.AnyuriAtt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AnyuriAttImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected AnyuriAttImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML qnameAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$QnameAtt.
+     */
+    public static class QnameAttImpl extends org.apache.xmlbeans.impl.values.JavaQNameHolderEx implements org.openuri.xstypes.test.Person.QnameAtt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public QnameAttImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected QnameAttImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML notationAtt(@).
+     *
+     * This is an atomic type that is a restriction of org.openuri.xstypes.test.Person$NotationAtt.
+     */
+    public static class NotationAttImpl extends org.apache.xmlbeans.impl.values.JavaNotationHolderEx implements org.openuri.xstypes.test.Person.NotationAtt
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public NotationAttImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected NotationAttImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
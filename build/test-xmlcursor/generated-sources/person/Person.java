@@ -0,0 +1,211 @@
+/*
+ * XML Type:  person
+ * Namespace: person
+ * Java type: person.Person
+ *
+ * Automatically generated - do not modify.
+ */
+package person;
+
+
+/**
+ * An XML person(@person).
+ *
+ * This is a complex type.
+ */
+public interface Person extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Person.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("person3ed7type");
+    
+    /**
+     * Gets the "Name" element
+     */
+    person.Name getName();
+    
+    /**
+     * Sets the "Name" element
+     */
+    void setName(person.Name name);
+    
+    /**
+     * Appends and returns a new empty "Name" element
+     */
+    person.Name addNewName();
+    
+    /**
+     * Gets array of all "Sibling" elements
+     */
+    person.Person[] getSiblingArray();
+    
+    /**
+     * Gets ith "Sibling" element
+     */
+    person.Person getSiblingArray(int i);
+    
+    /**
+     * Returns number of "Sibling" element
+     */
+    int sizeOfSiblingArray();
+    
+    /**
+     * Sets array of all "Sibling" element
+     */
+    void setSiblingArray(person.Person[] siblingArray);
+    
+    /**
+     * Sets ith "Sibling" element
+     */
+    void setSiblingArray(int i, person.Person sibling);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "Sibling" element
+     */
+    person.Person insertNewSibling(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "Sibling" element
+     */
+    person.Person addNewSibling();
+    
+    /**
+     * Removes the ith "Sibling" element
+     */
+    void removeSibling(int i);
+    
+    /**
+     * Gets the "Sex" attribute
+     */
+    person.Sex.Enum getSex();
+    
+    /**
+     * Gets (as xml) the "Sex" attribute
+     */
+    person.Sex xgetSex();
+    
+    /**
+     * True if has "Sex" attribute
+     */
+    boolean isSetSex();
+    
+    /**
+     * Sets the "Sex" attribute
+     */
+    void setSex(person.Sex.Enum sex);
+    
+    /**
+     * Sets (as xml) the "Sex" attribute
+     */
+    void xsetSex(person.Sex sex);
+    
+    /**
+     * Unsets the "Sex" attribute
+     */
+    void unsetSex();
+    
+    /**
+     * Gets the "Birthday" attribute
+     */
+    java.util.Calendar getBirthday();
+    
+    /**
+     * Gets (as xml) the "Birthday" attribute
+     */
+    org.apache.xmlbeans.XmlDate xgetBirthday();
+    
+    /**
+     * True if has "Birthday" attribute
+     */
+    boolean isSetBirthday();
+    
+    /**
+     * Sets the "Birthday" attribute
+     */
+    void setBirthday(java.util.Calendar birthday);
+    
+    /**
+     * Sets (as xml) the "Birthday" attribute
+     */
+    void xsetBirthday(org.apache.xmlbeans.XmlDate birthday);
+    
+    /**
+     * Unsets the "Birthday" attribute
+     */
+    void unsetBirthday();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static person.Person newInstance() {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static person.Person newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static person.Person parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static person.Person parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static person.Person parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static person.Person parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static person.Person parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static person.Person parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static person.Person parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static person.Person parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static person.Person parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static person.Person parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static person.Person parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static person.Person parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static person.Person parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static person.Person parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static person.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static person.Person parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (person.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  sex
+ * Namespace: person
+ * Java type: person.Sex
+ *
+ * Automatically generated - do not modify.
+ */
+package person.impl;
+/**
+ * An XML sex(@person).
+ *
+ * This is an atomic type that is a restriction of person.Sex.
+ */
+public class SexImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements person.Sex
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SexImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SexImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * An XML document type.
+ * Localname: test
+ * Namespace: http://xbean.test/xmlcursor/CR196679
+ * Java type: test.xbean.xmlcursor.cr196679.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.cr196679;
+
+
+/**
+ * A document containing one test(@http://xbean.test/xmlcursor/CR196679) element.
+ *
+ * This is a complex type.
+ */
+public interface TestDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testfd35doctype");
+    
+    /**
+     * Gets the "test" element
+     */
+    test.xbean.xmlcursor.cr196679.TestType getTest();
+    
+    /**
+     * Sets the "test" element
+     */
+    void setTest(test.xbean.xmlcursor.cr196679.TestType test);
+    
+    /**
+     * Appends and returns a new empty "test" element
+     */
+    test.xbean.xmlcursor.cr196679.TestType addNewTest();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xbean.xmlcursor.cr196679.TestDocument newInstance() {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.cr196679.TestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.cr196679.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  testType
+ * Namespace: http://xbean.test/xmlcursor/CR196679
+ * Java type: test.xbean.xmlcursor.cr196679.TestType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.cr196679;
+
+
+/**
+ * An XML testType(@http://xbean.test/xmlcursor/CR196679).
+ *
+ * This is a complex type.
+ */
+public interface TestType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("testtype1babtype");
+    
+    /**
+     * Gets the "name" element
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * True if has "name" element
+     */
+    boolean isSetName();
+    
+    /**
+     * Sets the "name" element
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Unsets the "name" element
+     */
+    void unsetName();
+    
+    /**
+     * Gets the "value" element
+     */
+    int getValue();
+    
+    /**
+     * Gets (as xml) the "value" element
+     */
+    org.apache.xmlbeans.XmlInt xgetValue();
+    
+    /**
+     * True if has "value" element
+     */
+    boolean isSetValue();
+    
+    /**
+     * Sets the "value" element
+     */
+    void setValue(int value);
+    
+    /**
+     * Sets (as xml) the "value" element
+     */
+    void xsetValue(org.apache.xmlbeans.XmlInt value);
+    
+    /**
+     * Unsets the "value" element
+     */
+    void unsetValue();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xbean.xmlcursor.cr196679.TestType newInstance() {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xbean.xmlcursor.cr196679.TestType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.cr196679.TestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.cr196679.TestType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.cr196679.TestType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: test
+ * Namespace: http://xbean.test/xmlcursor/CR196679
+ * Java type: test.xbean.xmlcursor.cr196679.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.cr196679.impl;
+/**
+ * A document containing one test(@http://xbean.test/xmlcursor/CR196679) element.
+ *
+ * This is a complex type.
+ */
+public class TestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.cr196679.TestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/CR196679", "test");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3556498:
+                if (name.equals(TEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test" element
+     */
+    public test.xbean.xmlcursor.cr196679.TestType getTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.cr196679.TestType target = null;
+            target = (test.xbean.xmlcursor.cr196679.TestType)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test" element
+     */
+    public void setTest(test.xbean.xmlcursor.cr196679.TestType test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test" element
+     */
+    public test.xbean.xmlcursor.cr196679.TestType addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.cr196679.TestType target = null;
+            target = (test.xbean.xmlcursor.cr196679.TestType)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+}
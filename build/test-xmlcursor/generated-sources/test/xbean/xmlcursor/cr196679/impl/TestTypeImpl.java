@@ -0,0 +1,242 @@
+/*
+ * XML Type:  testType
+ * Namespace: http://xbean.test/xmlcursor/CR196679
+ * Java type: test.xbean.xmlcursor.cr196679.TestType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.cr196679.impl;
+/**
+ * An XML testType(@http://xbean.test/xmlcursor/CR196679).
+ *
+ * This is a complex type.
+ */
+public class TestTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.cr196679.TestType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/CR196679", "name");
+    private static final javax.xml.namespace.QName VALUE$2 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/CR196679", "value");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 111972721:
+                if (name.equals(VALUE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" element
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NAME$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" element
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NAME$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "value" element
+     */
+    public int getValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(VALUE$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "value" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALUE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "value" element
+     */
+    public boolean isSetValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(VALUE$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "value" element
+     */
+    public void setValue(int value)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(VALUE$2);
+            }
+            target.setIntValue(value);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "value" element
+     */
+    public void xsetValue(org.apache.xmlbeans.XmlInt value)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(VALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(VALUE$2);
+            }
+            target.set(value);
+        }
+    }
+    
+    /**
+     * Unsets the "value" element
+     */
+    public void unsetValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(VALUE$2, 0);
+        }
+    }
+}
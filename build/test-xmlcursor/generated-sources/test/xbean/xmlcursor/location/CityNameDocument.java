@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: CityName
+ * Namespace: http://xbean.test/xmlcursor/Location
+ * Java type: test.xbean.xmlcursor.location.CityNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.location;
+
+
+/**
+ * A document containing one CityName(@http://xbean.test/xmlcursor/Location) element.
+ *
+ * This is a complex type.
+ */
+public interface CityNameDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CityNameDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLCURSOR").resolveHandle("cityname58eddoctype");
+    
+    /**
+     * Gets the "CityName" element
+     */
+    java.lang.String getCityName();
+    
+    /**
+     * Gets (as xml) the "CityName" element
+     */
+    org.apache.xmlbeans.XmlString xgetCityName();
+    
+    /**
+     * Sets the "CityName" element
+     */
+    void setCityName(java.lang.String cityName);
+    
+    /**
+     * Sets (as xml) the "CityName" element
+     */
+    void xsetCityName(org.apache.xmlbeans.XmlString cityName);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xbean.xmlcursor.location.CityNameDocument newInstance() {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xbean.xmlcursor.location.CityNameDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xbean.xmlcursor.location.CityNameDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,793 @@
+/*
+ * An XML document type.
+ * Localname: Location
+ * Namespace: http://xbean.test/xmlcursor/Location
+ * Java type: test.xbean.xmlcursor.location.LocationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.location.impl;
+/**
+ * A document containing one Location(@http://xbean.test/xmlcursor/Location) element.
+ *
+ * This is a complex type.
+ */
+public class LocationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.location.LocationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCATION$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "Location");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1965687765:
+                if (name.equals(LOCATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Location" element
+     */
+    public test.xbean.xmlcursor.location.LocationDocument.Location getLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.location.LocationDocument.Location target = null;
+            target = (test.xbean.xmlcursor.location.LocationDocument.Location)get_store().find_element_user(LOCATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Location" element
+     */
+    public void setLocation(test.xbean.xmlcursor.location.LocationDocument.Location location)
+    {
+        generatedSetterHelperImpl(location, LOCATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Location" element
+     */
+    public test.xbean.xmlcursor.location.LocationDocument.Location addNewLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.location.LocationDocument.Location target = null;
+            target = (test.xbean.xmlcursor.location.LocationDocument.Location)get_store().add_element_user(LOCATION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Location(@http://xbean.test/xmlcursor/Location).
+     *
+     * This is a complex type.
+     */
+    public static class LocationImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.location.LocationDocument.Location
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LocationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CITYNAME$0 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "CityName");
+        private static final javax.xml.namespace.QName STATECODE$2 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "StateCode");
+        private static final javax.xml.namespace.QName POSTALCODE$4 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "PostalCode");
+        private static final javax.xml.namespace.QName COUNTRYCODE$6 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "CountryCode");
+        private static final javax.xml.namespace.QName LOCATIONIDENTIFIER$8 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "LocationIdentifier");
+        private static final javax.xml.namespace.QName SPLC$10 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "SPLC");
+        private static final javax.xml.namespace.QName SUBDIVISIONCODE$12 = 
+            new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "SubdivisionCode");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(7);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1357037898:
+                    if (name.equals(CITYNAME$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -290349704:
+                    if (name.equals(POSTALCODE$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case -82422274:
+                    if (name.equals(STATECODE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 2551956:
+                    if (name.equals(SPLC$10))
+                        return ORDINAL$BASE + 5;
+                    break;
+                case 190801539:
+                    if (name.equals(COUNTRYCODE$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 795182686:
+                    if (name.equals(LOCATIONIDENTIFIER$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+                case 1207192154:
+                    if (name.equals(SUBDIVISIONCODE$12))
+                        return ORDINAL$BASE + 6;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "CityName" element
+         */
+        public java.lang.String getCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CityName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITYNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CityName" element
+         */
+        public boolean isSetCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(CITYNAME$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CityName" element
+         */
+        public void setCityName(java.lang.String cityName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITYNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITYNAME$0);
+                }
+                target.setStringValue(cityName);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CityName" element
+         */
+        public void xsetCityName(org.apache.xmlbeans.XmlString cityName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITYNAME$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CITYNAME$0);
+                }
+                target.set(cityName);
+            }
+        }
+        
+        /**
+         * Unsets the "CityName" element
+         */
+        public void unsetCityName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(CITYNAME$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "StateCode" element
+         */
+        public java.lang.String getStateCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATECODE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "StateCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStateCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATECODE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "StateCode" element
+         */
+        public boolean isSetStateCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STATECODE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "StateCode" element
+         */
+        public void setStateCode(java.lang.String stateCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATECODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATECODE$2);
+                }
+                target.setStringValue(stateCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "StateCode" element
+         */
+        public void xsetStateCode(org.apache.xmlbeans.XmlString stateCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATECODE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATECODE$2);
+                }
+                target.set(stateCode);
+            }
+        }
+        
+        /**
+         * Unsets the "StateCode" element
+         */
+        public void unsetStateCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STATECODE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "PostalCode" element
+         */
+        public java.lang.String getPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "PostalCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "PostalCode" element
+         */
+        public boolean isSetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(POSTALCODE$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "PostalCode" element
+         */
+        public void setPostalCode(java.lang.String postalCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(POSTALCODE$4);
+                }
+                target.setStringValue(postalCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "PostalCode" element
+         */
+        public void xsetPostalCode(org.apache.xmlbeans.XmlString postalCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(POSTALCODE$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(POSTALCODE$4);
+                }
+                target.set(postalCode);
+            }
+        }
+        
+        /**
+         * Unsets the "PostalCode" element
+         */
+        public void unsetPostalCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(POSTALCODE$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "CountryCode" element
+         */
+        public java.lang.String getCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "CountryCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "CountryCode" element
+         */
+        public boolean isSetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COUNTRYCODE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "CountryCode" element
+         */
+        public void setCountryCode(java.lang.String countryCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COUNTRYCODE$6);
+                }
+                target.setStringValue(countryCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "CountryCode" element
+         */
+        public void xsetCountryCode(org.apache.xmlbeans.XmlString countryCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COUNTRYCODE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COUNTRYCODE$6);
+                }
+                target.set(countryCode);
+            }
+        }
+        
+        /**
+         * Unsets the "CountryCode" element
+         */
+        public void unsetCountryCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(COUNTRYCODE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "LocationIdentifier" element
+         */
+        public java.lang.String getLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATIONIDENTIFIER$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "LocationIdentifier" element
+         */
+        public org.apache.xmlbeans.XmlString xgetLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCATIONIDENTIFIER$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "LocationIdentifier" element
+         */
+        public boolean isSetLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOCATIONIDENTIFIER$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "LocationIdentifier" element
+         */
+        public void setLocationIdentifier(java.lang.String locationIdentifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATIONIDENTIFIER$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCATIONIDENTIFIER$8);
+                }
+                target.setStringValue(locationIdentifier);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "LocationIdentifier" element
+         */
+        public void xsetLocationIdentifier(org.apache.xmlbeans.XmlString locationIdentifier)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LOCATIONIDENTIFIER$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LOCATIONIDENTIFIER$8);
+                }
+                target.set(locationIdentifier);
+            }
+        }
+        
+        /**
+         * Unsets the "LocationIdentifier" element
+         */
+        public void unsetLocationIdentifier()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOCATIONIDENTIFIER$8, 0);
+            }
+        }
+        
+        /**
+         * Gets the "SPLC" element
+         */
+        public java.lang.String getSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SPLC" element
+         */
+        public org.apache.xmlbeans.XmlString xgetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$10, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SPLC" element
+         */
+        public boolean isSetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SPLC$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "SPLC" element
+         */
+        public void setSPLC(java.lang.String splc)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SPLC$10);
+                }
+                target.setStringValue(splc);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SPLC" element
+         */
+        public void xsetSPLC(org.apache.xmlbeans.XmlString splc)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SPLC$10, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SPLC$10);
+                }
+                target.set(splc);
+            }
+        }
+        
+        /**
+         * Unsets the "SPLC" element
+         */
+        public void unsetSPLC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SPLC$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "SubdivisionCode" element
+         */
+        public java.lang.String getSubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "SubdivisionCode" element
+         */
+        public org.apache.xmlbeans.XmlString xgetSubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDIVISIONCODE$12, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "SubdivisionCode" element
+         */
+        public boolean isSetSubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SUBDIVISIONCODE$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "SubdivisionCode" element
+         */
+        public void setSubdivisionCode(java.lang.String subdivisionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBDIVISIONCODE$12);
+                }
+                target.setStringValue(subdivisionCode);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "SubdivisionCode" element
+         */
+        public void xsetSubdivisionCode(org.apache.xmlbeans.XmlString subdivisionCode)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDIVISIONCODE$12, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SUBDIVISIONCODE$12);
+                }
+                target.set(subdivisionCode);
+            }
+        }
+        
+        /**
+         * Unsets the "SubdivisionCode" element
+         */
+        public void unsetSubdivisionCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SUBDIVISIONCODE$12, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: SubdivisionCode
+ * Namespace: http://xbean.test/xmlcursor/Location
+ * Java type: test.xbean.xmlcursor.location.SubdivisionCodeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.location.impl;
+/**
+ * A document containing one SubdivisionCode(@http://xbean.test/xmlcursor/Location) element.
+ *
+ * This is a complex type.
+ */
+public class SubdivisionCodeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.location.SubdivisionCodeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubdivisionCodeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBDIVISIONCODE$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/Location", "SubdivisionCode");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1207192154:
+                if (name.equals(SUBDIVISIONCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "SubdivisionCode" element
+     */
+    public java.lang.String getSubdivisionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SubdivisionCode" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSubdivisionCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDIVISIONCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "SubdivisionCode" element
+     */
+    public void setSubdivisionCode(java.lang.String subdivisionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBDIVISIONCODE$0);
+            }
+            target.setStringValue(subdivisionCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SubdivisionCode" element
+     */
+    public void xsetSubdivisionCode(org.apache.xmlbeans.XmlString subdivisionCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBDIVISIONCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SUBDIVISIONCODE$0);
+            }
+            target.set(subdivisionCode);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: purchaseOrder
+ * Namespace: http://xbean.test/xmlcursor/PurchaseOrder
+ * Java type: test.xbean.xmlcursor.purchaseOrder.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.purchaseOrder.impl;
+/**
+ * A document containing one purchaseOrder(@http://xbean.test/xmlcursor/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.purchaseOrder.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "purchaseOrder");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1338668339:
+                if (name.equals(PURCHASEORDER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "purchaseOrder" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType getPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType)get_store().find_element_user(PURCHASEORDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "purchaseOrder" element
+     */
+    public void setPurchaseOrder(test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType purchaseOrder)
+    {
+        generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchaseOrder" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType addNewPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType)get_store().add_element_user(PURCHASEORDER$0);
+            return target;
+        }
+    }
+}
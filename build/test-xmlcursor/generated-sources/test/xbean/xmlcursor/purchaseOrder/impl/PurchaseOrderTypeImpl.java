@@ -0,0 +1,364 @@
+/*
+ * XML Type:  PurchaseOrderType
+ * Namespace: http://xbean.test/xmlcursor/PurchaseOrder
+ * Java type: test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.purchaseOrder.impl;
+/**
+ * An XML PurchaseOrderType(@http://xbean.test/xmlcursor/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.purchaseOrder.PurchaseOrderType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SHIPTO$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "shipTo");
+    private static final javax.xml.namespace.QName BILLTO$2 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "billTo");
+    private static final javax.xml.namespace.QName COMMENT$4 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "comment");
+    private static final javax.xml.namespace.QName ITEMS$6 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "items");
+    private static final javax.xml.namespace.QName ORDERDATE$8 = 
+        new javax.xml.namespace.QName("", "orderDate");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1389016862:
+                if (name.equals(BILLTO$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -903330345:
+                if (name.equals(SHIPTO$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 100526016:
+                if (name.equals(ITEMS$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 950398559:
+                if (name.equals(COMMENT$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "shipTo" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.USAddress getShipTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.USAddress target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.USAddress)get_store().find_element_user(SHIPTO$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "shipTo" element
+     */
+    public void setShipTo(test.xbean.xmlcursor.purchaseOrder.USAddress shipTo)
+    {
+        generatedSetterHelperImpl(shipTo, SHIPTO$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "shipTo" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.USAddress addNewShipTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.USAddress target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.USAddress)get_store().add_element_user(SHIPTO$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "billTo" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.USAddress getBillTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.USAddress target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.USAddress)get_store().find_element_user(BILLTO$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "billTo" element
+     */
+    public void setBillTo(test.xbean.xmlcursor.purchaseOrder.USAddress billTo)
+    {
+        generatedSetterHelperImpl(billTo, BILLTO$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "billTo" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.USAddress addNewBillTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.USAddress target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.USAddress)get_store().add_element_user(BILLTO$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "comment" element
+     */
+    public java.lang.String getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "comment" element
+     */
+    public boolean isSetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(COMMENT$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "comment" element
+     */
+    public void setComment(java.lang.String comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$4);
+            }
+            target.setStringValue(comment);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    public void xsetComment(org.apache.xmlbeans.XmlString comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$4);
+            }
+            target.set(comment);
+        }
+    }
+    
+    /**
+     * Unsets the "comment" element
+     */
+    public void unsetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(COMMENT$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "items" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.Items getItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.Items target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.Items)get_store().find_element_user(ITEMS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "items" element
+     */
+    public void setItems(test.xbean.xmlcursor.purchaseOrder.Items items)
+    {
+        generatedSetterHelperImpl(items, ITEMS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "items" element
+     */
+    public test.xbean.xmlcursor.purchaseOrder.Items addNewItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.purchaseOrder.Items target = null;
+            target = (test.xbean.xmlcursor.purchaseOrder.Items)get_store().add_element_user(ITEMS$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "orderDate" attribute
+     */
+    public java.util.Calendar getOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ORDERDATE$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "orderDate" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ORDERDATE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "orderDate" attribute
+     */
+    public boolean isSetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ORDERDATE$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "orderDate" attribute
+     */
+    public void setOrderDate(java.util.Calendar orderDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ORDERDATE$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ORDERDATE$8);
+            }
+            target.setCalendarValue(orderDate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "orderDate" attribute
+     */
+    public void xsetOrderDate(org.apache.xmlbeans.XmlDate orderDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ORDERDATE$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(ORDERDATE$8);
+            }
+            target.set(orderDate);
+        }
+    }
+    
+    /**
+     * Unsets the "orderDate" attribute
+     */
+    public void unsetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ORDERDATE$8);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  SKU
+ * Namespace: http://xbean.test/xmlcursor/PurchaseOrder
+ * Java type: test.xbean.xmlcursor.purchaseOrder.SKU
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.purchaseOrder.impl;
+/**
+ * An XML SKU(@http://xbean.test/xmlcursor/PurchaseOrder).
+ *
+ * This is an atomic type that is a restriction of test.xbean.xmlcursor.purchaseOrder.SKU.
+ */
+public class SKUImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements test.xbean.xmlcursor.purchaseOrder.SKU
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SKUImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SKUImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
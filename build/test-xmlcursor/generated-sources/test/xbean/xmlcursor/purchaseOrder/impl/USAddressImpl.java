@@ -0,0 +1,539 @@
+/*
+ * XML Type:  USAddress
+ * Namespace: http://xbean.test/xmlcursor/PurchaseOrder
+ * Java type: test.xbean.xmlcursor.purchaseOrder.USAddress
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.purchaseOrder.impl;
+/**
+ * An XML USAddress(@http://xbean.test/xmlcursor/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class USAddressImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.purchaseOrder.USAddress
+{
+    private static final long serialVersionUID = 1L;
+    
+    public USAddressImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "name");
+    private static final javax.xml.namespace.QName STREET$2 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "street");
+    private static final javax.xml.namespace.QName CITY$4 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "city");
+    private static final javax.xml.namespace.QName STATE$6 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "state");
+    private static final javax.xml.namespace.QName ZIP$8 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/PurchaseOrder", "zip");
+    private static final javax.xml.namespace.QName COUNTRY$10 = 
+        new javax.xml.namespace.QName("", "country");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -891990013:
+                if (name.equals(STREET$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 120609:
+                if (name.equals(ZIP$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3053931:
+                if (name.equals(CITY$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 109757585:
+                if (name.equals(STATE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "name" element
+     */
+    public boolean isNilName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Nils the "name" element
+     */
+    public void setNilName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.setNil();
+        }
+    }
+    
+    /**
+     * Gets the "street" element
+     */
+    public java.lang.String getStreet()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STREET$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "street" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStreet()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STREET$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "street" element
+     */
+    public void setStreet(java.lang.String street)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STREET$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STREET$2);
+            }
+            target.setStringValue(street);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "street" element
+     */
+    public void xsetStreet(org.apache.xmlbeans.XmlString street)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STREET$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STREET$2);
+            }
+            target.set(street);
+        }
+    }
+    
+    /**
+     * Gets the "city" element
+     */
+    public java.lang.String getCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "city" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "city" element
+     */
+    public void setCity(java.lang.String city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITY$4);
+            }
+            target.setStringValue(city);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "city" element
+     */
+    public void xsetCity(org.apache.xmlbeans.XmlString city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CITY$4);
+            }
+            target.set(city);
+        }
+    }
+    
+    /**
+     * Gets the "state" element
+     */
+    public java.lang.String getState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "state" element
+     */
+    public org.apache.xmlbeans.XmlString xgetState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATE$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "state" element
+     */
+    public void setState(java.lang.String state)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATE$6);
+            }
+            target.setStringValue(state);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "state" element
+     */
+    public void xsetState(org.apache.xmlbeans.XmlString state)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATE$6);
+            }
+            target.set(state);
+        }
+    }
+    
+    /**
+     * Gets the "zip" element
+     */
+    public java.math.BigDecimal getZip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ZIP$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "zip" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetZip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(ZIP$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "zip" element
+     */
+    public void setZip(java.math.BigDecimal zip)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ZIP$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ZIP$8);
+            }
+            target.setBigDecimalValue(zip);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "zip" element
+     */
+    public void xsetZip(org.apache.xmlbeans.XmlDecimal zip)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(ZIP$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(ZIP$8);
+            }
+            target.set(zip);
+        }
+    }
+    
+    /**
+     * Gets the "country" attribute
+     */
+    public java.lang.String getCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(COUNTRY$10);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "country" attribute
+     */
+    public org.apache.xmlbeans.XmlNMTOKEN xgetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNMTOKEN target = null;
+            target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNMTOKEN)get_default_attribute_value(COUNTRY$10);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "country" attribute
+     */
+    public boolean isSetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(COUNTRY$10) != null;
+        }
+    }
+    
+    /**
+     * Sets the "country" attribute
+     */
+    public void setCountry(java.lang.String country)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COUNTRY$10);
+            }
+            target.setStringValue(country);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "country" attribute
+     */
+    public void xsetCountry(org.apache.xmlbeans.XmlNMTOKEN country)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNMTOKEN target = null;
+            target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().add_attribute_user(COUNTRY$10);
+            }
+            target.set(country);
+        }
+    }
+    
+    /**
+     * Unsets the "country" attribute
+     */
+    public void unsetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(COUNTRY$10);
+        }
+    }
+}
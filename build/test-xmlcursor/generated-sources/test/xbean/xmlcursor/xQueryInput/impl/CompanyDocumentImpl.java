@@ -0,0 +1,153 @@
+/*
+ * An XML document type.
+ * Localname: company
+ * Namespace: http://xbean.test/xmlcursor/XQueryInput
+ * Java type: test.xbean.xmlcursor.xQueryInput.CompanyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xbean.xmlcursor.xQueryInput.impl;
+/**
+ * A document containing one company(@http://xbean.test/xmlcursor/XQueryInput) element.
+ *
+ * This is a complex type.
+ */
+public class CompanyDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.xQueryInput.CompanyDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CompanyDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COMPANY$0 = 
+        new javax.xml.namespace.QName("http://xbean.test/xmlcursor/XQueryInput", "company");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 950484093:
+                if (name.equals(COMPANY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "company" element
+     */
+    public test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company getCompany()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company target = null;
+            target = (test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company)get_store().find_element_user(COMPANY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "company" element
+     */
+    public void setCompany(test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company company)
+    {
+        generatedSetterHelperImpl(company, COMPANY$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "company" element
+     */
+    public test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company addNewCompany()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company target = null;
+            target = (test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company)get_store().add_element_user(COMPANY$0);
+            return target;
+        }
+    }
+    /**
+     * An XML company(@http://xbean.test/xmlcursor/XQueryInput).
+     *
+     * This is a complex type.
+     */
+    public static class CompanyImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xbean.xmlcursor.xQueryInput.CompanyDocument.Company
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public CompanyImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName EMPLOYEE$0 = 
+            new javax.xml.namespace.QName("", "employee");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 1193469614:
+                    if (name.equals(EMPLOYEE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "employee" element
+         */
+        public test.xbean.xmlcursor.xQueryInput.EmpT getEmployee()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                test.xbean.xmlcursor.xQueryInput.EmpT target = null;
+                target = (test.xbean.xmlcursor.xQueryInput.EmpT)get_store().find_element_user(EMPLOYEE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "employee" element
+         */
+        public void setEmployee(test.xbean.xmlcursor.xQueryInput.EmpT employee)
+        {
+            generatedSetterHelperImpl(employee, EMPLOYEE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "employee" element
+         */
+        public test.xbean.xmlcursor.xQueryInput.EmpT addNewEmployee()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                test.xbean.xmlcursor.xQueryInput.EmpT target = null;
+                target = (test.xbean.xmlcursor.xQueryInput.EmpT)get_store().add_element_user(EMPLOYEE$0);
+                return target;
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * XML Type:  line-item
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.XmlLineItemBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo;
+
+
+/**
+ * An XML line-item(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public interface XmlLineItemBean extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(XmlLineItemBean.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("lineitem622dtype");
+    
+    /**
+     * Gets the "description" element
+     */
+    java.lang.String getDescription();
+    
+    /**
+     * Gets (as xml) the "description" element
+     */
+    org.apache.xmlbeans.XmlString xgetDescription();
+    
+    /**
+     * Sets the "description" element
+     */
+    void setDescription(java.lang.String description);
+    
+    /**
+     * Sets (as xml) the "description" element
+     */
+    void xsetDescription(org.apache.xmlbeans.XmlString description);
+    
+    /**
+     * Gets the "per-unit-ounces" element
+     */
+    java.math.BigDecimal getPerUnitOunces();
+    
+    /**
+     * Gets (as xml) the "per-unit-ounces" element
+     */
+    org.apache.xmlbeans.XmlDecimal xgetPerUnitOunces();
+    
+    /**
+     * Sets the "per-unit-ounces" element
+     */
+    void setPerUnitOunces(java.math.BigDecimal perUnitOunces);
+    
+    /**
+     * Sets (as xml) the "per-unit-ounces" element
+     */
+    void xsetPerUnitOunces(org.apache.xmlbeans.XmlDecimal perUnitOunces);
+    
+    /**
+     * Gets the "price" element
+     */
+    java.math.BigDecimal getPrice();
+    
+    /**
+     * Gets (as xml) the "price" element
+     */
+    org.apache.xmlbeans.XmlDecimal xgetPrice();
+    
+    /**
+     * Sets the "price" element
+     */
+    void setPrice(java.math.BigDecimal price);
+    
+    /**
+     * Sets (as xml) the "price" element
+     */
+    void xsetPrice(org.apache.xmlbeans.XmlDecimal price);
+    
+    /**
+     * Gets the "quantity" element
+     */
+    java.math.BigInteger getQuantity();
+    
+    /**
+     * Gets (as xml) the "quantity" element
+     */
+    org.apache.xmlbeans.XmlInteger xgetQuantity();
+    
+    /**
+     * Sets the "quantity" element
+     */
+    void setQuantity(java.math.BigInteger quantity);
+    
+    /**
+     * Sets (as xml) the "quantity" element
+     */
+    void xsetQuantity(org.apache.xmlbeans.XmlInteger quantity);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.easypo.XmlLineItemBean newInstance() {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.easypo.XmlLineItemBean newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.easypo.XmlLineItemBean parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.easypo.XmlLineItemBean parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.easypo.XmlLineItemBean parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.easypo.XmlLineItemBean parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.easypo.XmlLineItemBean parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.XmlLineItemBean parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.XmlLineItemBean parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.XmlLineItemBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * An XML document type.
+ * Localname: purchase-order
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.XmlPurchaseOrderDocumentBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo;
+
+
+/**
+ * A document containing one purchase-order(@http://openuri.org/easypo) element.
+ *
+ * This is a complex type.
+ */
+public interface XmlPurchaseOrderDocumentBean extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(XmlPurchaseOrderDocumentBean.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("purchaseorder4765doctype");
+    
+    /**
+     * Gets the "purchase-order" element
+     */
+    com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder getPurchaseOrder();
+    
+    /**
+     * Sets the "purchase-order" element
+     */
+    void setPurchaseOrder(com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder purchaseOrder);
+    
+    /**
+     * Appends and returns a new empty "purchase-order" element
+     */
+    com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder addNewPurchaseOrder();
+    
+    /**
+     * An XML purchase-order(@http://openuri.org/easypo).
+     *
+     * This is a complex type.
+     */
+    public interface PurchaseOrder extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PurchaseOrder.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("purchaseorder2687elemtype");
+        
+        /**
+         * Gets the "customer" element
+         */
+        com.easypo.XmlCustomerBean getCustomer();
+        
+        /**
+         * Sets the "customer" element
+         */
+        void setCustomer(com.easypo.XmlCustomerBean customer);
+        
+        /**
+         * Appends and returns a new empty "customer" element
+         */
+        com.easypo.XmlCustomerBean addNewCustomer();
+        
+        /**
+         * Gets the "date" element
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "date" element
+         */
+        org.apache.xmlbeans.XmlDateTime xgetDate();
+        
+        /**
+         * Sets the "date" element
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "date" element
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDateTime date);
+        
+        /**
+         * Gets array of all "line-item" elements
+         */
+        com.easypo.XmlLineItemBean[] getLineItemArray();
+        
+        /**
+         * Gets ith "line-item" element
+         */
+        com.easypo.XmlLineItemBean getLineItemArray(int i);
+        
+        /**
+         * Returns number of "line-item" element
+         */
+        int sizeOfLineItemArray();
+        
+        /**
+         * Sets array of all "line-item" element
+         */
+        void setLineItemArray(com.easypo.XmlLineItemBean[] lineItemArray);
+        
+        /**
+         * Sets ith "line-item" element
+         */
+        void setLineItemArray(int i, com.easypo.XmlLineItemBean lineItem);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "line-item" element
+         */
+        com.easypo.XmlLineItemBean insertNewLineItem(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "line-item" element
+         */
+        com.easypo.XmlLineItemBean addNewLineItem();
+        
+        /**
+         * Removes the ith "line-item" element
+         */
+        void removeLineItem(int i);
+        
+        /**
+         * Gets the "shipper" element
+         */
+        com.easypo.XmlShipperBean getShipper();
+        
+        /**
+         * True if has "shipper" element
+         */
+        boolean isSetShipper();
+        
+        /**
+         * Sets the "shipper" element
+         */
+        void setShipper(com.easypo.XmlShipperBean shipper);
+        
+        /**
+         * Appends and returns a new empty "shipper" element
+         */
+        com.easypo.XmlShipperBean addNewShipper();
+        
+        /**
+         * Unsets the "shipper" element
+         */
+        void unsetShipper();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder newInstance() {
+              return (com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.easypo.XmlPurchaseOrderDocumentBean newInstance() {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.XmlPurchaseOrderDocumentBean parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.XmlPurchaseOrderDocumentBean) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
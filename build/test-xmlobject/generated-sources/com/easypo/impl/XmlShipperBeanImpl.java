@@ -0,0 +1,182 @@
+/*
+ * XML Type:  shipper
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.XmlShipperBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * An XML shipper(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public class XmlShipperBeanImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.XmlShipperBean
+{
+    private static final long serialVersionUID = 1L;
+    
+    public XmlShipperBeanImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "name");
+    private static final javax.xml.namespace.QName PEROUNCERATE$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "per-ounce-rate");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -101009965:
+                if (name.equals(PEROUNCERATE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Gets the "per-ounce-rate" element
+     */
+    public java.math.BigDecimal getPerOunceRate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PEROUNCERATE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "per-ounce-rate" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetPerOunceRate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PEROUNCERATE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "per-ounce-rate" element
+     */
+    public void setPerOunceRate(java.math.BigDecimal perOunceRate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PEROUNCERATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PEROUNCERATE$2);
+            }
+            target.setBigDecimalValue(perOunceRate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "per-ounce-rate" element
+     */
+    public void xsetPerOunceRate(org.apache.xmlbeans.XmlDecimal perOunceRate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PEROUNCERATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(PEROUNCERATE$2);
+            }
+            target.set(perOunceRate);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * XML Type:  customer
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.pojo.XmlCustomerBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.pojo;
+
+/**
+ * An XML customer(@http://openuri.org/easypo).
+ *
+ * This is a plain Java binding of com.easypo.XmlCustomerBean.
+ */
+public class XmlCustomerBean
+{
+    private static final java.lang.Integer MOO$DEFAULT = java.lang.Integer.valueOf(org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt("100"));
+    private static final java.lang.Integer POO$DEFAULT = java.lang.Integer.valueOf(org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt("200"));
+    private java.lang.Integer _age;
+    private java.lang.Integer _moo = MOO$DEFAULT;
+    private java.lang.Integer _poo = POO$DEFAULT;
+    private java.lang.String _name;
+    private java.lang.String _address;
+    
+    /**
+     * Gets the "age" attribute
+     */
+    public java.lang.Integer getAge()
+    {
+        return _age;
+    }
+    
+    /**
+     * Sets the "age" attribute
+     */
+    public void setAge(java.lang.Integer age)
+    {
+        this._age = age;
+    }
+    
+    /**
+     * Gets the "moo" attribute
+     */
+    public java.lang.Integer getMoo()
+    {
+        return _moo;
+    }
+    
+    /**
+     * Sets the "moo" attribute
+     */
+    public void setMoo(java.lang.Integer moo)
+    {
+        this._moo = moo;
+    }
+    
+    /**
+     * Gets the "poo" attribute
+     */
+    public java.lang.Integer getPoo()
+    {
+        return _poo;
+    }
+    
+    /**
+     * Sets the "poo" attribute
+     */
+    public void setPoo(java.lang.Integer poo)
+    {
+        this._poo = poo;
+    }
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Gets the "address" element
+     */
+    public java.lang.String getAddress()
+    {
+        return _address;
+    }
+    
+    /**
+     * Sets the "address" element
+     */
+    public void setAddress(java.lang.String address)
+    {
+        this._address = address;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static XmlCustomerBean read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        XmlCustomerBean result = new XmlCustomerBean();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("age".equals(local) && "".equals(uri))
+                result._age = java.lang.Integer.valueOf(reader.getAttributeIntValue(i));
+            else if ("moo".equals(local) && "".equals(uri))
+                result._moo = java.lang.Integer.valueOf(reader.getAttributeIntValue(i));
+            else if ("poo".equals(local) && "".equals(uri))
+                result._poo = java.lang.Integer.valueOf(reader.getAttributeIntValue(i));
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("name".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._name = reader.getStringValue();
+            }
+            else if ("address".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._address = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._age != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "age", org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._age.intValue()));
+        if (this._moo != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "moo", org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._moo.intValue()));
+        if (this._poo != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "poo", org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._poo.intValue()));
+        if (this._name != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "name", ns);
+            writer.writeCharacters(this._name);
+            writer.writeEndElement();
+        }
+        if (this._address != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "address", ns);
+            writer.writeCharacters(this._address);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  line-item
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.pojo.XmlLineItemBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.pojo;
+
+/**
+ * An XML line-item(@http://openuri.org/easypo).
+ *
+ * This is a plain Java binding of com.easypo.XmlLineItemBean.
+ */
+public class XmlLineItemBean
+{
+    private java.lang.String _description;
+    private java.math.BigDecimal _perUnitOunces;
+    private java.math.BigDecimal _price;
+    private java.math.BigInteger _quantity;
+    
+    /**
+     * Gets the "description" element
+     */
+    public java.lang.String getDescription()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(java.lang.String description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "per-unit-ounces" element
+     */
+    public java.math.BigDecimal getPerUnitOunces()
+    {
+        return _perUnitOunces;
+    }
+    
+    /**
+     * Sets the "per-unit-ounces" element
+     */
+    public void setPerUnitOunces(java.math.BigDecimal perUnitOunces)
+    {
+        this._perUnitOunces = perUnitOunces;
+    }
+    
+    /**
+     * Gets the "price" element
+     */
+    public java.math.BigDecimal getPrice()
+    {
+        return _price;
+    }
+    
+    /**
+     * Sets the "price" element
+     */
+    public void setPrice(java.math.BigDecimal price)
+    {
+        this._price = price;
+    }
+    
+    /**
+     * Gets the "quantity" element
+     */
+    public java.math.BigInteger getQuantity()
+    {
+        return _quantity;
+    }
+    
+    /**
+     * Sets the "quantity" element
+     */
+    public void setQuantity(java.math.BigInteger quantity)
+    {
+        this._quantity = quantity;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static XmlLineItemBean read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        XmlLineItemBean result = new XmlLineItemBean();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._description = reader.getStringValue();
+            }
+            else if ("per-unit-ounces".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._perUnitOunces = reader.getBigDecimalValue();
+            }
+            else if ("price".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._price = reader.getBigDecimalValue();
+            }
+            else if ("quantity".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._quantity = reader.getBigIntegerValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "description", ns);
+            writer.writeCharacters(this._description);
+            writer.writeEndElement();
+        }
+        if (this._perUnitOunces != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "per-unit-ounces", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printDecimal(this._perUnitOunces));
+            writer.writeEndElement();
+        }
+        if (this._price != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "price", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printDecimal(this._price));
+            writer.writeEndElement();
+        }
+        if (this._quantity != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "quantity", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._quantity));
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * An XML document type.
+ * Localname: purchase-order
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.pojo.XmlPurchaseOrderDocumentBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.pojo;
+
+/**
+ * A document containing one purchase-order(@http://openuri.org/easypo) element.
+ *
+ * This is a plain Java binding of com.easypo.XmlPurchaseOrderDocumentBean.
+ */
+public class XmlPurchaseOrderDocumentBean
+{
+    private com.easypo.pojo.XmlPurchaseOrderDocumentBean.PurchaseOrder _purchaseOrder;
+    
+    /**
+     * Gets the "purchase-order" element
+     */
+    public com.easypo.pojo.XmlPurchaseOrderDocumentBean.PurchaseOrder getPurchaseOrder()
+    {
+        return _purchaseOrder;
+    }
+    
+    /**
+     * Sets the "purchase-order" element
+     */
+    public void setPurchaseOrder(com.easypo.pojo.XmlPurchaseOrderDocumentBean.PurchaseOrder purchaseOrder)
+    {
+        this._purchaseOrder = purchaseOrder;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be purchase-order(@http://openuri.org/easypo), and leaves the reader on the end of
+     * that element.
+     */
+    public static XmlPurchaseOrderDocumentBean read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        XmlPurchaseOrderDocumentBean result = new XmlPurchaseOrderDocumentBean();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/easypo", "purchase-order");
+        {
+            result._purchaseOrder = com.easypo.pojo.XmlPurchaseOrderDocumentBean.PurchaseOrder.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static XmlPurchaseOrderDocumentBean parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static XmlPurchaseOrderDocumentBean parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static XmlPurchaseOrderDocumentBean parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._purchaseOrder != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "purchase-order", ns);
+            this._purchaseOrder.write(writer, "http://openuri.org/easypo");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder.
+     */
+    public static class PurchaseOrder
+    {
+        private com.easypo.pojo.XmlCustomerBean _customer;
+        private java.util.Calendar _date;
+        private com.easypo.pojo.XmlLineItemBean[] _lineItem;
+        private com.easypo.pojo.XmlShipperBean _shipper;
+        
+        /**
+         * Gets the "customer" element
+         */
+        public com.easypo.pojo.XmlCustomerBean getCustomer()
+        {
+            return _customer;
+        }
+        
+        /**
+         * Sets the "customer" element
+         */
+        public void setCustomer(com.easypo.pojo.XmlCustomerBean customer)
+        {
+            this._customer = customer;
+        }
+        
+        /**
+         * Gets the "date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            return _date;
+        }
+        
+        /**
+         * Sets the "date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            this._date = date;
+        }
+        
+        /**
+         * Gets array of all "line-item" elements
+         */
+        public com.easypo.pojo.XmlLineItemBean[] getLineItemArray()
+        {
+            return _lineItem;
+        }
+        
+        /**
+         * Sets array of all "line-item" elements
+         */
+        public void setLineItemArray(com.easypo.pojo.XmlLineItemBean[] lineItem)
+        {
+            this._lineItem = lineItem;
+        }
+        
+        /**
+         * Gets the "shipper" element
+         */
+        public com.easypo.pojo.XmlShipperBean getShipper()
+        {
+            return _shipper;
+        }
+        
+        /**
+         * Sets the "shipper" element
+         */
+        public void setShipper(com.easypo.pojo.XmlShipperBean shipper)
+        {
+            this._shipper = shipper;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static PurchaseOrder read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            PurchaseOrder result = new PurchaseOrder();
+            com.easypo.pojo.XmlLineItemBean[] lineItemArray = new com.easypo.pojo.XmlLineItemBean[0]; int lineItemCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("customer".equals(local) && "http://openuri.org/easypo".equals(uri))
+                {
+                    result._customer = com.easypo.pojo.XmlCustomerBean.read(reader);
+                }
+                else if ("date".equals(local) && "http://openuri.org/easypo".equals(uri))
+                {
+                    result._date = reader.getCalendarValue();
+                }
+                else if ("line-item".equals(local) && "http://openuri.org/easypo".equals(uri))
+                {
+                    if (lineItemCount == lineItemArray.length)
+                    {
+                        com.easypo.pojo.XmlLineItemBean[] grown = new com.easypo.pojo.XmlLineItemBean[lineItemCount * 2 + 4];
+                        java.lang.System.arraycopy(lineItemArray, 0, grown, 0, lineItemCount);
+                        lineItemArray = grown;
+                    }
+                    lineItemArray[lineItemCount++] = com.easypo.pojo.XmlLineItemBean.read(reader);
+                }
+                else if ("shipper".equals(local) && "http://openuri.org/easypo".equals(uri))
+                {
+                    result._shipper = com.easypo.pojo.XmlShipperBean.read(reader);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (lineItemCount != lineItemArray.length)
+            {
+                result._lineItem = new com.easypo.pojo.XmlLineItemBean[lineItemCount];
+                java.lang.System.arraycopy(lineItemArray, 0, result._lineItem, 0, lineItemCount);
+            }
+            else
+                result._lineItem = lineItemArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._customer != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "customer", ns);
+                this._customer.write(writer, "http://openuri.org/easypo");
+                writer.writeEndElement();
+            }
+            if (this._date != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "date", ns);
+                writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._date, 14));
+                writer.writeEndElement();
+            }
+            if (this._lineItem != null)
+            {
+                for (int i = 0; i < this._lineItem.length; i++)
+                {
+                    if (this._lineItem[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "line-item", ns);
+                        this._lineItem[i].write(writer, "http://openuri.org/easypo");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._shipper != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "shipper", ns);
+                this._shipper.write(writer, "http://openuri.org/easypo");
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  shipper
+ * Namespace: http://openuri.org/easypo
+ * Java type: com.easypo.pojo.XmlShipperBean
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.pojo;
+
+/**
+ * An XML shipper(@http://openuri.org/easypo).
+ *
+ * This is a plain Java binding of com.easypo.XmlShipperBean.
+ */
+public class XmlShipperBean
+{
+    private java.lang.String _name;
+    private java.math.BigDecimal _perOunceRate;
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Gets the "per-ounce-rate" element
+     */
+    public java.math.BigDecimal getPerOunceRate()
+    {
+        return _perOunceRate;
+    }
+    
+    /**
+     * Sets the "per-ounce-rate" element
+     */
+    public void setPerOunceRate(java.math.BigDecimal perOunceRate)
+    {
+        this._perOunceRate = perOunceRate;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static XmlShipperBean read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        XmlShipperBean result = new XmlShipperBean();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("name".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._name = reader.getStringValue();
+            }
+            else if ("per-ounce-rate".equals(local) && "http://openuri.org/easypo".equals(uri))
+            {
+                result._perOunceRate = reader.getBigDecimalValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._name != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "name", ns);
+            writer.writeCharacters(this._name);
+            writer.writeEndElement();
+        }
+        if (this._perOunceRate != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/easypo", "per-ounce-rate", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printDecimal(this._perOunceRate));
+            writer.writeEndElement();
+        }
+    }
+}
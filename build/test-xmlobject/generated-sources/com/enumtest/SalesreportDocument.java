@@ -0,0 +1,303 @@
+/*
+ * An XML document type.
+ * Localname: salesreport
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.SalesreportDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest;
+
+
+/**
+ * A document containing one salesreport(@http://openuri.org/enumtest) element.
+ *
+ * This is a complex type.
+ */
+public interface SalesreportDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SalesreportDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("salesreport66e3doctype");
+    
+    /**
+     * Gets the "salesreport" element
+     */
+    com.enumtest.SalesreportDocument.Salesreport getSalesreport();
+    
+    /**
+     * Sets the "salesreport" element
+     */
+    void setSalesreport(com.enumtest.SalesreportDocument.Salesreport salesreport);
+    
+    /**
+     * Appends and returns a new empty "salesreport" element
+     */
+    com.enumtest.SalesreportDocument.Salesreport addNewSalesreport();
+    
+    /**
+     * An XML salesreport(@http://openuri.org/enumtest).
+     *
+     * This is a complex type.
+     */
+    public interface Salesreport extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Salesreport.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("salesreport5d8felemtype");
+        
+        /**
+         * Gets array of all "unit" elements
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[] getUnitArray();
+        
+        /**
+         * Gets ith "unit" element
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit.Enum getUnitArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "unit" elements
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit[] xgetUnitArray();
+        
+        /**
+         * Gets (as xml) ith "unit" element
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit xgetUnitArray(int i);
+        
+        /**
+         * Returns number of "unit" element
+         */
+        int sizeOfUnitArray();
+        
+        /**
+         * Sets array of all "unit" element
+         */
+        void setUnitArray(com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[] unitArray);
+        
+        /**
+         * Sets ith "unit" element
+         */
+        void setUnitArray(int i, com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit);
+        
+        /**
+         * Sets (as xml) array of all "unit" element
+         */
+        void xsetUnitArray(com.enumtest.SalesreportDocument.Salesreport.Unit[] unitArray);
+        
+        /**
+         * Sets (as xml) ith "unit" element
+         */
+        void xsetUnitArray(int i, com.enumtest.SalesreportDocument.Salesreport.Unit unit);
+        
+        /**
+         * Inserts the value as the ith "unit" element
+         */
+        void insertUnit(int i, com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit);
+        
+        /**
+         * Appends the value as the last "unit" element
+         */
+        void addUnit(com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "unit" element
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit insertNewUnit(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "unit" element
+         */
+        com.enumtest.SalesreportDocument.Salesreport.Unit addNewUnit();
+        
+        /**
+         * Removes the ith "unit" element
+         */
+        void removeUnit(int i);
+        
+        /**
+         * An XML unit(@http://openuri.org/enumtest).
+         *
+         * This is an atomic type that is a restriction of com.enumtest.SalesreportDocument$Salesreport$Unit.
+         */
+        public interface Unit extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Unit.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("unit53afelemtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum ONE = Enum.forString("one");
+            static final Enum TWO = Enum.forString("two");
+            static final Enum NINETY_NINE = Enum.forString("ninety-nine");
+            static final Enum ONE_HUNDRED = Enum.forString("one-hundred");
+            
+            static final int INT_ONE = Enum.INT_ONE;
+            static final int INT_TWO = Enum.INT_TWO;
+            static final int INT_NINETY_NINE = Enum.INT_NINETY_NINE;
+            static final int INT_ONE_HUNDRED = Enum.INT_ONE_HUNDRED;
+            
+            /**
+             * Enumeration value class for com.enumtest.SalesreportDocument$Salesreport$Unit.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_ONE
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_ONE = 1;
+                static final int INT_TWO = 2;
+                static final int INT_NINETY_NINE = 3;
+                static final int INT_ONE_HUNDRED = 4;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("one", INT_ONE),
+                      new Enum("two", INT_TWO),
+                      new Enum("ninety-nine", INT_NINETY_NINE),
+                      new Enum("one-hundred", INT_ONE_HUNDRED),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static com.enumtest.SalesreportDocument.Salesreport.Unit newValue(java.lang.Object obj) {
+                  return (com.enumtest.SalesreportDocument.Salesreport.Unit) type.newValue( obj ); }
+                
+                public static com.enumtest.SalesreportDocument.Salesreport.Unit newInstance() {
+                  return (com.enumtest.SalesreportDocument.Salesreport.Unit) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static com.enumtest.SalesreportDocument.Salesreport.Unit newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (com.enumtest.SalesreportDocument.Salesreport.Unit) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.enumtest.SalesreportDocument.Salesreport newInstance() {
+              return (com.enumtest.SalesreportDocument.Salesreport) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.enumtest.SalesreportDocument.Salesreport newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.enumtest.SalesreportDocument.Salesreport) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.enumtest.SalesreportDocument newInstance() {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.enumtest.SalesreportDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.enumtest.SalesreportDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.enumtest.SalesreportDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.enumtest.SalesreportDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.enumtest.SalesreportDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.enumtest.SalesreportDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.enumtest.SalesreportDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.enumtest.SalesreportDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.enumtest.SalesreportDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
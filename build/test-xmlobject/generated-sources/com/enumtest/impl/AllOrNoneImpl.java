@@ -0,0 +1,27 @@
+/*
+ * XML Type:  allOrNone
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.AllOrNone
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * An XML allOrNone(@http://openuri.org/enumtest).
+ *
+ * This is an atomic type that is a restriction of com.enumtest.AllOrNone.
+ */
+public class AllOrNoneImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.enumtest.AllOrNone
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AllOrNoneImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected AllOrNoneImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
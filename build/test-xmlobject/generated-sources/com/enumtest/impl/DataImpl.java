@@ -0,0 +1,217 @@
+/*
+ * XML Type:  data
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.Data
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * An XML data(@http://openuri.org/enumtest).
+ *
+ * This is an atomic type that is a restriction of com.enumtest.Data.
+ */
+public class DataImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.enumtest.Data
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DataImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected DataImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName TARGET$2 = 
+        new javax.xml.namespace.QName("", "target");
+    
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" attribute
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAME$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$0);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$0);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAME$0);
+        }
+    }
+    
+    /**
+     * Gets the "target" attribute
+     */
+    public com.enumtest.Quantity.Enum getTarget()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TARGET$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.enumtest.Quantity.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "target" attribute
+     */
+    public com.enumtest.AllOrNone xgetTarget()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.AllOrNone target = null;
+            target = (com.enumtest.AllOrNone)get_store().find_attribute_user(TARGET$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "target" attribute
+     */
+    public boolean isSetTarget()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(TARGET$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "target" attribute
+     */
+    public void setTarget(com.enumtest.Quantity.Enum targetValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TARGET$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TARGET$2);
+            }
+            target.setEnumValue(targetValue);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "target" attribute
+     */
+    public void xsetTarget(com.enumtest.AllOrNone targetValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.AllOrNone target = null;
+            target = (com.enumtest.AllOrNone)get_store().find_attribute_user(TARGET$2);
+            if (target == null)
+            {
+                target = (com.enumtest.AllOrNone)get_store().add_attribute_user(TARGET$2);
+            }
+            target.set(targetValue);
+        }
+    }
+    
+    /**
+     * Unsets the "target" attribute
+     */
+    public void unsetTarget()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(TARGET$2);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  object
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.Object
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * An XML object(@http://openuri.org/enumtest).
+ *
+ * This is an atomic type that is a restriction of com.enumtest.Object.
+ */
+public class ObjectImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.enumtest.Object
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ObjectImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ObjectImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  quantity
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.Quantity
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * An XML quantity(@http://openuri.org/enumtest).
+ *
+ * This is an atomic type that is a restriction of com.enumtest.Quantity.
+ */
+public class QuantityImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.enumtest.Quantity
+{
+    private static final long serialVersionUID = 1L;
+    
+    public QuantityImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected QuantityImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * An XML document type.
+ * Localname: salesreport
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.SalesreportDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * A document containing one salesreport(@http://openuri.org/enumtest) element.
+ *
+ * This is a complex type.
+ */
+public class SalesreportDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.enumtest.SalesreportDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SalesreportDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SALESREPORT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/enumtest", "salesreport");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2030131904:
+                if (name.equals(SALESREPORT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "salesreport" element
+     */
+    public com.enumtest.SalesreportDocument.Salesreport getSalesreport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.SalesreportDocument.Salesreport target = null;
+            target = (com.enumtest.SalesreportDocument.Salesreport)get_store().find_element_user(SALESREPORT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "salesreport" element
+     */
+    public void setSalesreport(com.enumtest.SalesreportDocument.Salesreport salesreport)
+    {
+        generatedSetterHelperImpl(salesreport, SALESREPORT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "salesreport" element
+     */
+    public com.enumtest.SalesreportDocument.Salesreport addNewSalesreport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.SalesreportDocument.Salesreport target = null;
+            target = (com.enumtest.SalesreportDocument.Salesreport)get_store().add_element_user(SALESREPORT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML salesreport(@http://openuri.org/enumtest).
+     *
+     * This is a complex type.
+     */
+    public static class SalesreportImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.enumtest.SalesreportDocument.Salesreport
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public SalesreportImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName UNIT$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/enumtest", "unit");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 3594628:
+                    if (name.equals(UNIT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "unit" elements
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[] getUnitArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(UNIT$0, targetList);
+                com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[] result = new com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = (com.enumtest.SalesreportDocument.Salesreport.Unit.Enum)((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getEnumValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "unit" element
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit.Enum getUnitArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return (com.enumtest.SalesreportDocument.Salesreport.Unit.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "unit" elements
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit[] xgetUnitArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(UNIT$0, targetList);
+                com.enumtest.SalesreportDocument.Salesreport.Unit[] result = new com.enumtest.SalesreportDocument.Salesreport.Unit[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "unit" element
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit xgetUnitArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.SalesreportDocument.Salesreport.Unit target = null;
+                target = (com.enumtest.SalesreportDocument.Salesreport.Unit)get_store().find_element_user(UNIT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "unit" element
+         */
+        public int sizeOfUnitArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(UNIT$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "unit" element
+         */
+        public void setUnitArray(com.enumtest.SalesreportDocument.Salesreport.Unit.Enum[] unitArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(unitArray, UNIT$0);
+            }
+        }
+        
+        /**
+         * Sets ith "unit" element
+         */
+        public void setUnitArray(int i, com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(UNIT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setEnumValue(unit);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "unit" element
+         */
+        public void xsetUnitArray(com.enumtest.SalesreportDocument.Salesreport.Unit[]unitArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(unitArray, UNIT$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "unit" element
+         */
+        public void xsetUnitArray(int i, com.enumtest.SalesreportDocument.Salesreport.Unit unit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.SalesreportDocument.Salesreport.Unit target = null;
+                target = (com.enumtest.SalesreportDocument.Salesreport.Unit)get_store().find_element_user(UNIT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(unit);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "unit" element
+         */
+        public void insertUnit(int i, com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(UNIT$0, i);
+                target.setEnumValue(unit);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "unit" element
+         */
+        public void addUnit(com.enumtest.SalesreportDocument.Salesreport.Unit.Enum unit)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(UNIT$0);
+                target.setEnumValue(unit);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "unit" element
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit insertNewUnit(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.SalesreportDocument.Salesreport.Unit target = null;
+                target = (com.enumtest.SalesreportDocument.Salesreport.Unit)get_store().insert_element_user(UNIT$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "unit" element
+         */
+        public com.enumtest.SalesreportDocument.Salesreport.Unit addNewUnit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.SalesreportDocument.Salesreport.Unit target = null;
+                target = (com.enumtest.SalesreportDocument.Salesreport.Unit)get_store().add_element_user(UNIT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "unit" element
+         */
+        public void removeUnit(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(UNIT$0, i);
+            }
+        }
+        /**
+         * An XML unit(@http://openuri.org/enumtest).
+         *
+         * This is an atomic type that is a restriction of com.enumtest.SalesreportDocument$Salesreport$Unit.
+         */
+        public static class UnitImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.enumtest.SalesreportDocument.Salesreport.Unit
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UnitImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UnitImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
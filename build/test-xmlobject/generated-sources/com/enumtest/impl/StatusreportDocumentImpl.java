@@ -0,0 +1,216 @@
+/*
+ * An XML document type.
+ * Localname: statusreport
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.StatusreportDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.impl;
+/**
+ * A document containing one statusreport(@http://openuri.org/enumtest) element.
+ *
+ * This is a complex type.
+ */
+public class StatusreportDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.enumtest.StatusreportDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StatusreportDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STATUSREPORT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/enumtest", "statusreport");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1327044698:
+                if (name.equals(STATUSREPORT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "statusreport" element
+     */
+    public com.enumtest.StatusreportDocument.Statusreport getStatusreport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.StatusreportDocument.Statusreport target = null;
+            target = (com.enumtest.StatusreportDocument.Statusreport)get_store().find_element_user(STATUSREPORT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "statusreport" element
+     */
+    public void setStatusreport(com.enumtest.StatusreportDocument.Statusreport statusreport)
+    {
+        generatedSetterHelperImpl(statusreport, STATUSREPORT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "statusreport" element
+     */
+    public com.enumtest.StatusreportDocument.Statusreport addNewStatusreport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.enumtest.StatusreportDocument.Statusreport target = null;
+            target = (com.enumtest.StatusreportDocument.Statusreport)get_store().add_element_user(STATUSREPORT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML statusreport(@http://openuri.org/enumtest).
+     *
+     * This is a complex type.
+     */
+    public static class StatusreportImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.enumtest.StatusreportDocument.Statusreport
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public StatusreportImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName STATUS$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/enumtest", "status");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -892481550:
+                    if (name.equals(STATUS$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "status" elements
+         */
+        public com.enumtest.Data[] getStatusArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(STATUS$0, targetList);
+                com.enumtest.Data[] result = new com.enumtest.Data[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "status" element
+         */
+        public com.enumtest.Data getStatusArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.Data target = null;
+                target = (com.enumtest.Data)get_store().find_element_user(STATUS$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "status" element
+         */
+        public int sizeOfStatusArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STATUS$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "status" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setStatusArray(com.enumtest.Data[] statusArray)
+        {
+            check_orphaned();
+            arraySetterHelper(statusArray, STATUS$0);
+        }
+        
+        /**
+         * Sets ith "status" element
+         */
+        public void setStatusArray(int i, com.enumtest.Data status)
+        {
+            generatedSetterHelperImpl(status, STATUS$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "status" element
+         */
+        public com.enumtest.Data insertNewStatus(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.Data target = null;
+                target = (com.enumtest.Data)get_store().insert_element_user(STATUS$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "status" element
+         */
+        public com.enumtest.Data addNewStatus()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.enumtest.Data target = null;
+                target = (com.enumtest.Data)get_store().add_element_user(STATUS$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "status" element
+         */
+        public void removeStatus(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STATUS$0, i);
+            }
+        }
+    }
+}
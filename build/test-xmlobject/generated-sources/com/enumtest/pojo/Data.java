@@ -0,0 +1,109 @@
+/*
+ * XML Type:  data
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.pojo.Data
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.pojo;
+
+/**
+ * An XML data(@http://openuri.org/enumtest).
+ *
+ * This is a plain Java binding of com.enumtest.Data.
+ */
+public class Data
+{
+    private java.lang.String _name;
+    private java.lang.String _target;
+    private java.lang.String _value;
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Gets the "target" attribute
+     */
+    public java.lang.String getTarget()
+    {
+        return _target;
+    }
+    
+    /**
+     * Sets the "target" attribute
+     */
+    public void setTarget(java.lang.String target)
+    {
+        this._target = target;
+    }
+    
+    /**
+     * Gets the simple content
+     */
+    public java.lang.String getValue()
+    {
+        return _value;
+    }
+    
+    /**
+     * Sets the simple content
+     */
+    public void setValue(java.lang.String value)
+    {
+        this._value = value;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Data read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Data result = new Data();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("name".equals(local) && "".equals(uri))
+                result._name = reader.getAttributeStringValue(i);
+            else if ("target".equals(local) && "".equals(uri))
+                result._target = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        
+        result._value = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._name != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "name", this._name);
+        if (this._target != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "target", this._target);
+        if (this._value != null)
+            writer.writeCharacters(this._value);
+    }
+}
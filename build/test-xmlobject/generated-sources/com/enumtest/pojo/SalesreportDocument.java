@@ -0,0 +1,205 @@
+/*
+ * An XML document type.
+ * Localname: salesreport
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.pojo.SalesreportDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.pojo;
+
+/**
+ * A document containing one salesreport(@http://openuri.org/enumtest) element.
+ *
+ * This is a plain Java binding of com.enumtest.SalesreportDocument.
+ */
+public class SalesreportDocument
+{
+    private com.enumtest.pojo.SalesreportDocument.Salesreport _salesreport;
+    
+    /**
+     * Gets the "salesreport" element
+     */
+    public com.enumtest.pojo.SalesreportDocument.Salesreport getSalesreport()
+    {
+        return _salesreport;
+    }
+    
+    /**
+     * Sets the "salesreport" element
+     */
+    public void setSalesreport(com.enumtest.pojo.SalesreportDocument.Salesreport salesreport)
+    {
+        this._salesreport = salesreport;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be salesreport(@http://openuri.org/enumtest), and leaves the reader on the end of
+     * that element.
+     */
+    public static SalesreportDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SalesreportDocument result = new SalesreportDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/enumtest", "salesreport");
+        {
+            result._salesreport = com.enumtest.pojo.SalesreportDocument.Salesreport.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static SalesreportDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static SalesreportDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static SalesreportDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._salesreport != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/enumtest", "salesreport", ns);
+            this._salesreport.write(writer, "http://openuri.org/enumtest");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of com.enumtest.SalesreportDocument.Salesreport.
+     */
+    public static class Salesreport
+    {
+        private java.lang.String[] _unit;
+        
+        /**
+         * Gets array of all "unit" elements
+         */
+        public java.lang.String[] getUnitArray()
+        {
+            return _unit;
+        }
+        
+        /**
+         * Sets array of all "unit" elements
+         */
+        public void setUnitArray(java.lang.String[] unit)
+        {
+            this._unit = unit;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Salesreport read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Salesreport result = new Salesreport();
+            java.lang.String[] unitArray = new java.lang.String[0]; int unitCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("unit".equals(local) && "http://openuri.org/enumtest".equals(uri))
+                {
+                    if (unitCount == unitArray.length)
+                    {
+                        java.lang.String[] grown = new java.lang.String[unitCount * 2 + 4];
+                        java.lang.System.arraycopy(unitArray, 0, grown, 0, unitCount);
+                        unitArray = grown;
+                    }
+                    unitArray[unitCount++] = reader.getStringValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (unitCount != unitArray.length)
+            {
+                result._unit = new java.lang.String[unitCount];
+                java.lang.System.arraycopy(unitArray, 0, result._unit, 0, unitCount);
+            }
+            else
+                result._unit = unitArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._unit != null)
+            {
+                for (int i = 0; i < this._unit.length; i++)
+                {
+                    if (this._unit[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/enumtest", "unit", ns);
+                        writer.writeCharacters(this._unit[i]);
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
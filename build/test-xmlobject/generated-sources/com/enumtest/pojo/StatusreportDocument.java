@@ -0,0 +1,205 @@
+/*
+ * An XML document type.
+ * Localname: statusreport
+ * Namespace: http://openuri.org/enumtest
+ * Java type: com.enumtest.pojo.StatusreportDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.enumtest.pojo;
+
+/**
+ * A document containing one statusreport(@http://openuri.org/enumtest) element.
+ *
+ * This is a plain Java binding of com.enumtest.StatusreportDocument.
+ */
+public class StatusreportDocument
+{
+    private com.enumtest.pojo.StatusreportDocument.Statusreport _statusreport;
+    
+    /**
+     * Gets the "statusreport" element
+     */
+    public com.enumtest.pojo.StatusreportDocument.Statusreport getStatusreport()
+    {
+        return _statusreport;
+    }
+    
+    /**
+     * Sets the "statusreport" element
+     */
+    public void setStatusreport(com.enumtest.pojo.StatusreportDocument.Statusreport statusreport)
+    {
+        this._statusreport = statusreport;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be statusreport(@http://openuri.org/enumtest), and leaves the reader on the end of
+     * that element.
+     */
+    public static StatusreportDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        StatusreportDocument result = new StatusreportDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/enumtest", "statusreport");
+        {
+            result._statusreport = com.enumtest.pojo.StatusreportDocument.Statusreport.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static StatusreportDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static StatusreportDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static StatusreportDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._statusreport != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/enumtest", "statusreport", ns);
+            this._statusreport.write(writer, "http://openuri.org/enumtest");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of com.enumtest.StatusreportDocument.Statusreport.
+     */
+    public static class Statusreport
+    {
+        private com.enumtest.pojo.Data[] _status;
+        
+        /**
+         * Gets array of all "status" elements
+         */
+        public com.enumtest.pojo.Data[] getStatusArray()
+        {
+            return _status;
+        }
+        
+        /**
+         * Sets array of all "status" elements
+         */
+        public void setStatusArray(com.enumtest.pojo.Data[] status)
+        {
+            this._status = status;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Statusreport read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Statusreport result = new Statusreport();
+            com.enumtest.pojo.Data[] statusArray = new com.enumtest.pojo.Data[0]; int statusCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("status".equals(local) && "http://openuri.org/enumtest".equals(uri))
+                {
+                    if (statusCount == statusArray.length)
+                    {
+                        com.enumtest.pojo.Data[] grown = new com.enumtest.pojo.Data[statusCount * 2 + 4];
+                        java.lang.System.arraycopy(statusArray, 0, grown, 0, statusCount);
+                        statusArray = grown;
+                    }
+                    statusArray[statusCount++] = com.enumtest.pojo.Data.read(reader);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (statusCount != statusArray.length)
+            {
+                result._status = new com.enumtest.pojo.Data[statusCount];
+                java.lang.System.arraycopy(statusArray, 0, result._status, 0, statusCount);
+            }
+            else
+                result._status = statusArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._status != null)
+            {
+                for (int i = 0; i < this._status.length; i++)
+                {
+                    if (this._status[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/enumtest", "status", ns);
+                        this._status[i].write(writer, "http://openuri.org/enumtest");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  bar
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.Bar
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.impl;
+/**
+ * An XML bar(@http://www.mytest.com).
+ *
+ * This is a complex type.
+ */
+public class BarImpl extends com.mytest.impl.FooImpl implements com.mytest.Bar
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BarImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BARMEMBER$0 = 
+        new javax.xml.namespace.QName("http://www.mytest.com", "barMember");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 909269133:
+                if (name.equals(BARMEMBER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "barMember" element
+     */
+    public java.lang.String getBarMember()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BARMEMBER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "barMember" element
+     */
+    public org.apache.xmlbeans.XmlString xgetBarMember()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BARMEMBER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "barMember" element
+     */
+    public void setBarMember(java.lang.String barMember)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BARMEMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BARMEMBER$0);
+            }
+            target.setStringValue(barMember);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "barMember" element
+     */
+    public void xsetBarMember(org.apache.xmlbeans.XmlString barMember)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BARMEMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(BARMEMBER$0);
+            }
+            target.set(barMember);
+        }
+    }
+}
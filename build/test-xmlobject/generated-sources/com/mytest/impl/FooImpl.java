@@ -0,0 +1,108 @@
+/*
+ * XML Type:  foo
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.Foo
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.impl;
+/**
+ * An XML foo(@http://www.mytest.com).
+ *
+ * This is a complex type.
+ */
+public class FooImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.mytest.Foo
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FooImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FOOMEMBER$0 = 
+        new javax.xml.namespace.QName("http://www.mytest.com", "fooMember");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1763584256:
+                if (name.equals(FOOMEMBER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "fooMember" element
+     */
+    public java.lang.String getFooMember()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOMEMBER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "fooMember" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFooMember()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOMEMBER$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "fooMember" element
+     */
+    public void setFooMember(java.lang.String fooMember)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOMEMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FOOMEMBER$0);
+            }
+            target.setStringValue(fooMember);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "fooMember" element
+     */
+    public void xsetFooMember(org.apache.xmlbeans.XmlString fooMember)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOMEMBER$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FOOMEMBER$0);
+            }
+            target.set(fooMember);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.impl;
+/**
+ * A document containing one Test(@http://www.mytest.com) element.
+ *
+ * This is a complex type.
+ */
+public class TestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.mytest.TestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://www.mytest.com", "Test");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2603186:
+                if (name.equals(TEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Test" element
+     */
+    public com.mytest.Info getTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.mytest.Info target = null;
+            target = (com.mytest.Info)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(com.mytest.Info test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Test" element
+     */
+    public com.mytest.Info addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.mytest.Info target = null;
+            target = (com.mytest.Info)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  bar
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.pojo.Bar
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.pojo;
+
+/**
+ * An XML bar(@http://www.mytest.com).
+ *
+ * This is a plain Java binding of com.mytest.Bar.
+ */
+public class Bar
+{
+    private java.lang.String _fooMember;
+    private java.lang.String _barMember;
+    
+    /**
+     * Gets the "fooMember" element
+     */
+    public java.lang.String getFooMember()
+    {
+        return _fooMember;
+    }
+    
+    /**
+     * Sets the "fooMember" element
+     */
+    public void setFooMember(java.lang.String fooMember)
+    {
+        this._fooMember = fooMember;
+    }
+    
+    /**
+     * Gets the "barMember" element
+     */
+    public java.lang.String getBarMember()
+    {
+        return _barMember;
+    }
+    
+    /**
+     * Sets the "barMember" element
+     */
+    public void setBarMember(java.lang.String barMember)
+    {
+        this._barMember = barMember;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Bar read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Bar result = new Bar();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("fooMember".equals(local) && "http://www.mytest.com".equals(uri))
+            {
+                result._fooMember = reader.getStringValue();
+            }
+            else if ("barMember".equals(local) && "http://www.mytest.com".equals(uri))
+            {
+                result._barMember = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._fooMember != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://www.mytest.com", "fooMember", ns);
+            writer.writeCharacters(this._fooMember);
+            writer.writeEndElement();
+        }
+        if (this._barMember != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://www.mytest.com", "barMember", ns);
+            writer.writeCharacters(this._barMember);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * XML Type:  foo
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.pojo.Foo
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.pojo;
+
+/**
+ * An XML foo(@http://www.mytest.com).
+ *
+ * This is a plain Java binding of com.mytest.Foo.
+ */
+public class Foo
+{
+    private java.lang.String _fooMember;
+    
+    /**
+     * Gets the "fooMember" element
+     */
+    public java.lang.String getFooMember()
+    {
+        return _fooMember;
+    }
+    
+    /**
+     * Sets the "fooMember" element
+     */
+    public void setFooMember(java.lang.String fooMember)
+    {
+        this._fooMember = fooMember;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Foo read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Foo result = new Foo();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("fooMember".equals(local) && "http://www.mytest.com".equals(uri))
+            {
+                result._fooMember = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._fooMember != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://www.mytest.com", "fooMember", ns);
+            writer.writeCharacters(this._fooMember);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * XML Type:  Info
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.pojo.Info
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.pojo;
+
+/**
+ * An XML Info(@http://www.mytest.com).
+ *
+ * This is a plain Java binding of com.mytest.Info.
+ */
+public class Info
+{
+    private com.mytest.pojo.Foo[] _foo;
+    
+    /**
+     * Gets array of all "foo" elements
+     */
+    public com.mytest.pojo.Foo[] getFooArray()
+    {
+        return _foo;
+    }
+    
+    /**
+     * Sets array of all "foo" elements
+     */
+    public void setFooArray(com.mytest.pojo.Foo[] foo)
+    {
+        this._foo = foo;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Info read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Info result = new Info();
+        com.mytest.pojo.Foo[] fooArray = new com.mytest.pojo.Foo[0]; int fooCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("foo".equals(local) && "http://www.mytest.com".equals(uri))
+            {
+                if (fooCount == fooArray.length)
+                {
+                    com.mytest.pojo.Foo[] grown = new com.mytest.pojo.Foo[fooCount * 2 + 4];
+                    java.lang.System.arraycopy(fooArray, 0, grown, 0, fooCount);
+                    fooArray = grown;
+                }
+                fooArray[fooCount++] = com.mytest.pojo.Foo.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (fooCount != fooArray.length)
+        {
+            result._foo = new com.mytest.pojo.Foo[fooCount];
+            java.lang.System.arraycopy(fooArray, 0, result._foo, 0, fooCount);
+        }
+        else
+            result._foo = fooArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._foo != null)
+        {
+            for (int i = 0; i < this._foo.length; i++)
+            {
+                if (this._foo[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://www.mytest.com", "foo", ns);
+                    this._foo[i].write(writer, "http://www.mytest.com");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
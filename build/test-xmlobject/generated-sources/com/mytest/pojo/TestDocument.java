@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://www.mytest.com
+ * Java type: com.mytest.pojo.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.mytest.pojo;
+
+/**
+ * A document containing one Test(@http://www.mytest.com) element.
+ *
+ * This is a plain Java binding of com.mytest.TestDocument.
+ */
+public class TestDocument
+{
+    private com.mytest.pojo.Info _test;
+    
+    /**
+     * Gets the "Test" element
+     */
+    public com.mytest.pojo.Info getTest()
+    {
+        return _test;
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(com.mytest.pojo.Info test)
+    {
+        this._test = test;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Test(@http://www.mytest.com), and leaves the reader on the end of
+     * that element.
+     */
+    public static TestDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TestDocument result = new TestDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://www.mytest.com", "Test");
+        {
+            result._test = com.mytest.pojo.Info.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static TestDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static TestDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static TestDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._test != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://www.mytest.com", "Test", ns);
+            this._test.write(writer, "http://www.mytest.com");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://bug38361.knextest
+ * Java type: knextest.bug38361.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package knextest.bug38361;
+
+
+/**
+ * A document containing one Test(@http://bug38361.knextest) element.
+ *
+ * This is a complex type.
+ */
+public interface TestDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("testd724doctype");
+    
+    /**
+     * Gets the "Test" element
+     */
+    knextest.bug38361.TestDocument.Test getTest();
+    
+    /**
+     * Sets the "Test" element
+     */
+    void setTest(knextest.bug38361.TestDocument.Test test);
+    
+    /**
+     * Appends and returns a new empty "Test" element
+     */
+    knextest.bug38361.TestDocument.Test addNewTest();
+    
+    /**
+     * An XML Test(@http://bug38361.knextest).
+     *
+     * This is a complex type.
+     */
+    public interface Test extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Test.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("testd472elemtype");
+        
+        /**
+         * Gets the "Simple" element
+         */
+        java.lang.String getSimple();
+        
+        /**
+         * Gets (as xml) the "Simple" element
+         */
+        knextest.bug38361.TestDocument.Test.Simple xgetSimple();
+        
+        /**
+         * Tests for nil "Simple" element
+         */
+        boolean isNilSimple();
+        
+        /**
+         * Sets the "Simple" element
+         */
+        void setSimple(java.lang.String simple);
+        
+        /**
+         * Sets (as xml) the "Simple" element
+         */
+        void xsetSimple(knextest.bug38361.TestDocument.Test.Simple simple);
+        
+        /**
+         * Nils the "Simple" element
+         */
+        void setNilSimple();
+        
+        /**
+         * Gets the "Date" element
+         */
+        java.util.Calendar getDate();
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        org.apache.xmlbeans.XmlDate xgetDate();
+        
+        /**
+         * Tests for nil "Date" element
+         */
+        boolean isNilDate();
+        
+        /**
+         * Sets the "Date" element
+         */
+        void setDate(java.util.Calendar date);
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        void xsetDate(org.apache.xmlbeans.XmlDate date);
+        
+        /**
+         * Nils the "Date" element
+         */
+        void setNilDate();
+        
+        /**
+         * An XML Simple(@http://bug38361.knextest).
+         *
+         * This is an atomic type that is a restriction of knextest.bug38361.TestDocument$Test$Simple.
+         */
+        public interface Simple extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Simple.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("simple8044elemtype");
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static knextest.bug38361.TestDocument.Test.Simple newValue(java.lang.Object obj) {
+                  return (knextest.bug38361.TestDocument.Test.Simple) type.newValue( obj ); }
+                
+                public static knextest.bug38361.TestDocument.Test.Simple newInstance() {
+                  return (knextest.bug38361.TestDocument.Test.Simple) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static knextest.bug38361.TestDocument.Test.Simple newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (knextest.bug38361.TestDocument.Test.Simple) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static knextest.bug38361.TestDocument.Test newInstance() {
+              return (knextest.bug38361.TestDocument.Test) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static knextest.bug38361.TestDocument.Test newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (knextest.bug38361.TestDocument.Test) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static knextest.bug38361.TestDocument newInstance() {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static knextest.bug38361.TestDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static knextest.bug38361.TestDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static knextest.bug38361.TestDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static knextest.bug38361.TestDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static knextest.bug38361.TestDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static knextest.bug38361.TestDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static knextest.bug38361.TestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static knextest.bug38361.TestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (knextest.bug38361.TestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://bug38361.knextest
+ * Java type: knextest.bug38361.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package knextest.bug38361.impl;
+/**
+ * A document containing one Test(@http://bug38361.knextest) element.
+ *
+ * This is a complex type.
+ */
+public class TestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements knextest.bug38361.TestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://bug38361.knextest", "Test");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2603186:
+                if (name.equals(TEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Test" element
+     */
+    public knextest.bug38361.TestDocument.Test getTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            knextest.bug38361.TestDocument.Test target = null;
+            target = (knextest.bug38361.TestDocument.Test)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(knextest.bug38361.TestDocument.Test test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Test" element
+     */
+    public knextest.bug38361.TestDocument.Test addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            knextest.bug38361.TestDocument.Test target = null;
+            target = (knextest.bug38361.TestDocument.Test)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Test(@http://bug38361.knextest).
+     *
+     * This is a complex type.
+     */
+    public static class TestImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements knextest.bug38361.TestDocument.Test
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TestImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName SIMPLE$0 = 
+            new javax.xml.namespace.QName("http://bug38361.knextest", "Simple");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://bug38361.knextest", "Date");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1818419758:
+                    if (name.equals(SIMPLE$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 2122702:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "Simple" element
+         */
+        public java.lang.String getSimple()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Simple" element
+         */
+        public knextest.bug38361.TestDocument.Test.Simple xgetSimple()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                knextest.bug38361.TestDocument.Test.Simple target = null;
+                target = (knextest.bug38361.TestDocument.Test.Simple)get_store().find_element_user(SIMPLE$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Tests for nil "Simple" element
+         */
+        public boolean isNilSimple()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                knextest.bug38361.TestDocument.Test.Simple target = null;
+                target = (knextest.bug38361.TestDocument.Test.Simple)get_store().find_element_user(SIMPLE$0, 0);
+                if (target == null) return false;
+                return target.isNil();
+            }
+        }
+        
+        /**
+         * Sets the "Simple" element
+         */
+        public void setSimple(java.lang.String simple)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLE$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIMPLE$0);
+                }
+                target.setStringValue(simple);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Simple" element
+         */
+        public void xsetSimple(knextest.bug38361.TestDocument.Test.Simple simple)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                knextest.bug38361.TestDocument.Test.Simple target = null;
+                target = (knextest.bug38361.TestDocument.Test.Simple)get_store().find_element_user(SIMPLE$0, 0);
+                if (target == null)
+                {
+                    target = (knextest.bug38361.TestDocument.Test.Simple)get_store().add_element_user(SIMPLE$0);
+                }
+                target.set(simple);
+            }
+        }
+        
+        /**
+         * Nils the "Simple" element
+         */
+        public void setNilSimple()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                knextest.bug38361.TestDocument.Test.Simple target = null;
+                target = (knextest.bug38361.TestDocument.Test.Simple)get_store().find_element_user(SIMPLE$0, 0);
+                if (target == null)
+                {
+                    target = (knextest.bug38361.TestDocument.Test.Simple)get_store().add_element_user(SIMPLE$0);
+                }
+                target.setNil();
+            }
+        }
+        
+        /**
+         * Gets the "Date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "Date" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Tests for nil "Date" element
+         */
+        public boolean isNilDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null) return false;
+                return target.isNil();
+            }
+        }
+        
+        /**
+         * Sets the "Date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "Date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDate date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$2);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Nils the "Date" element
+         */
+        public void setNilDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(DATE$2);
+                }
+                target.setNil();
+            }
+        }
+        /**
+         * An XML Simple(@http://bug38361.knextest).
+         *
+         * This is an atomic type that is a restriction of knextest.bug38361.TestDocument$Test$Simple.
+         */
+        public static class SimpleImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements knextest.bug38361.TestDocument.Test.Simple
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public SimpleImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected SimpleImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
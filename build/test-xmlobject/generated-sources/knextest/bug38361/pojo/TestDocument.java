@@ -0,0 +1,221 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://bug38361.knextest
+ * Java type: knextest.bug38361.pojo.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package knextest.bug38361.pojo;
+
+/**
+ * A document containing one Test(@http://bug38361.knextest) element.
+ *
+ * This is a plain Java binding of knextest.bug38361.TestDocument.
+ */
+public class TestDocument
+{
+    private knextest.bug38361.pojo.TestDocument.Test _test;
+    
+    /**
+     * Gets the "Test" element
+     */
+    public knextest.bug38361.pojo.TestDocument.Test getTest()
+    {
+        return _test;
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(knextest.bug38361.pojo.TestDocument.Test test)
+    {
+        this._test = test;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Test(@http://bug38361.knextest), and leaves the reader on the end of
+     * that element.
+     */
+    public static TestDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TestDocument result = new TestDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://bug38361.knextest", "Test");
+        {
+            result._test = knextest.bug38361.pojo.TestDocument.Test.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static TestDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static TestDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static TestDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._test != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://bug38361.knextest", "Test", ns);
+            this._test.write(writer, "http://bug38361.knextest");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of knextest.bug38361.TestDocument.Test.
+     */
+    public static class Test
+    {
+        private java.lang.String _simple;
+        private java.util.Calendar _date;
+        
+        /**
+         * Gets the "Simple" element
+         */
+        public java.lang.String getSimple()
+        {
+            return _simple;
+        }
+        
+        /**
+         * Sets the "Simple" element
+         */
+        public void setSimple(java.lang.String simple)
+        {
+            this._simple = simple;
+        }
+        
+        /**
+         * Gets the "Date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            return _date;
+        }
+        
+        /**
+         * Sets the "Date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            this._date = date;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Test read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Test result = new Test();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("Simple".equals(local) && "http://bug38361.knextest".equals(uri))
+                if (org.apache.xmlbeans.impl.richParser.BindingSupport.isNil(reader))
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+                }
+                else
+                {
+                    result._simple = reader.getStringValue();
+                }
+                else if ("Date".equals(local) && "http://bug38361.knextest".equals(uri))
+                if (org.apache.xmlbeans.impl.richParser.BindingSupport.isNil(reader))
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+                }
+                else
+                {
+                    result._date = reader.getCalendarValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._simple != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://bug38361.knextest", "Simple", ns);
+                writer.writeCharacters(this._simple);
+                writer.writeEndElement();
+            }
+            if (this._date != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://bug38361.knextest", "Date", ns);
+                writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._date, 16));
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt;
+
+
+/**
+ * A document containing one doc(@http://xml.apache.org/test/selectChldAtt) element.
+ *
+ * This is a complex type.
+ */
+public interface DocDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DocDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("doca0aedoctype");
+    
+    /**
+     * Gets the "doc" element
+     */
+    org.apache.xml.test.selectChldAtt.DocDocument.Doc getDoc();
+    
+    /**
+     * Sets the "doc" element
+     */
+    void setDoc(org.apache.xml.test.selectChldAtt.DocDocument.Doc doc);
+    
+    /**
+     * Appends and returns a new empty "doc" element
+     */
+    org.apache.xml.test.selectChldAtt.DocDocument.Doc addNewDoc();
+    
+    /**
+     * An XML doc(@http://xml.apache.org/test/selectChldAtt).
+     *
+     * This is a complex type.
+     */
+    public interface Doc extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Doc.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("doc1e8aelemtype");
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        int[] getIntArray();
+        
+        /**
+         * Gets ith "int" element
+         */
+        int getIntArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "int" elements
+         */
+        org.apache.xmlbeans.XmlInt[] xgetIntArray();
+        
+        /**
+         * Gets (as xml) ith "int" element
+         */
+        org.apache.xmlbeans.XmlInt xgetIntArray(int i);
+        
+        /**
+         * Returns number of "int" element
+         */
+        int sizeOfIntArray();
+        
+        /**
+         * Sets array of all "int" element
+         */
+        void setIntArray(int[] xintArray);
+        
+        /**
+         * Sets ith "int" element
+         */
+        void setIntArray(int i, int xint);
+        
+        /**
+         * Sets (as xml) array of all "int" element
+         */
+        void xsetIntArray(org.apache.xmlbeans.XmlInt[] xintArray);
+        
+        /**
+         * Sets (as xml) ith "int" element
+         */
+        void xsetIntArray(int i, org.apache.xmlbeans.XmlInt xint);
+        
+        /**
+         * Inserts the value as the ith "int" element
+         */
+        void insertInt(int i, int xint);
+        
+        /**
+         * Appends the value as the last "int" element
+         */
+        void addInt(int xint);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "int" element
+         */
+        org.apache.xmlbeans.XmlInt insertNewInt(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "int" element
+         */
+        org.apache.xmlbeans.XmlInt addNewInt();
+        
+        /**
+         * Removes the ith "int" element
+         */
+        void removeInt(int i);
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        java.lang.String[] getStringArray();
+        
+        /**
+         * Gets ith "string" element
+         */
+        java.lang.String getStringArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "string" elements
+         */
+        org.apache.xmlbeans.XmlString[] xgetStringArray();
+        
+        /**
+         * Gets (as xml) ith "string" element
+         */
+        org.apache.xmlbeans.XmlString xgetStringArray(int i);
+        
+        /**
+         * Returns number of "string" element
+         */
+        int sizeOfStringArray();
+        
+        /**
+         * Sets array of all "string" element
+         */
+        void setStringArray(java.lang.String[] stringArray);
+        
+        /**
+         * Sets ith "string" element
+         */
+        void setStringArray(int i, java.lang.String string);
+        
+        /**
+         * Sets (as xml) array of all "string" element
+         */
+        void xsetStringArray(org.apache.xmlbeans.XmlString[] stringArray);
+        
+        /**
+         * Sets (as xml) ith "string" element
+         */
+        void xsetStringArray(int i, org.apache.xmlbeans.XmlString string);
+        
+        /**
+         * Inserts the value as the ith "string" element
+         */
+        void insertString(int i, java.lang.String string);
+        
+        /**
+         * Appends the value as the last "string" element
+         */
+        void addString(java.lang.String string);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "string" element
+         */
+        org.apache.xmlbeans.XmlString insertNewString(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "string" element
+         */
+        org.apache.xmlbeans.XmlString addNewString();
+        
+        /**
+         * Removes the ith "string" element
+         */
+        void removeString(int i);
+        
+        /**
+         * Gets array of all "elemA" elements
+         */
+        org.apache.xml.test.selectChldAtt.TypeA[] getElemAArray();
+        
+        /**
+         * Gets ith "elemA" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeA getElemAArray(int i);
+        
+        /**
+         * Returns number of "elemA" element
+         */
+        int sizeOfElemAArray();
+        
+        /**
+         * Sets array of all "elemA" element
+         */
+        void setElemAArray(org.apache.xml.test.selectChldAtt.TypeA[] elemAArray);
+        
+        /**
+         * Sets ith "elemA" element
+         */
+        void setElemAArray(int i, org.apache.xml.test.selectChldAtt.TypeA elemA);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemA" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeA insertNewElemA(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemA" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeA addNewElemA();
+        
+        /**
+         * Removes the ith "elemA" element
+         */
+        void removeElemA(int i);
+        
+        /**
+         * Gets array of all "elemB" elements
+         */
+        org.apache.xml.test.selectChldAtt.TypeB[] getElemBArray();
+        
+        /**
+         * Gets ith "elemB" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeB getElemBArray(int i);
+        
+        /**
+         * Returns number of "elemB" element
+         */
+        int sizeOfElemBArray();
+        
+        /**
+         * Sets array of all "elemB" element
+         */
+        void setElemBArray(org.apache.xml.test.selectChldAtt.TypeB[] elemBArray);
+        
+        /**
+         * Sets ith "elemB" element
+         */
+        void setElemBArray(int i, org.apache.xml.test.selectChldAtt.TypeB elemB);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemB" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeB insertNewElemB(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemB" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeB addNewElemB();
+        
+        /**
+         * Removes the ith "elemB" element
+         */
+        void removeElemB(int i);
+        
+        /**
+         * Gets array of all "elemC" elements
+         */
+        org.apache.xml.test.selectChldAtt.TypeC[] getElemCArray();
+        
+        /**
+         * Gets ith "elemC" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeC getElemCArray(int i);
+        
+        /**
+         * Returns number of "elemC" element
+         */
+        int sizeOfElemCArray();
+        
+        /**
+         * Sets array of all "elemC" element
+         */
+        void setElemCArray(org.apache.xml.test.selectChldAtt.TypeC[] elemCArray);
+        
+        /**
+         * Sets ith "elemC" element
+         */
+        void setElemCArray(int i, org.apache.xml.test.selectChldAtt.TypeC elemC);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemC" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeC insertNewElemC(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemC" element
+         */
+        org.apache.xml.test.selectChldAtt.TypeC addNewElemC();
+        
+        /**
+         * Removes the ith "elemC" element
+         */
+        void removeElemC(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.apache.xml.test.selectChldAtt.DocDocument.Doc newInstance() {
+              return (org.apache.xml.test.selectChldAtt.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.apache.xml.test.selectChldAtt.DocDocument.Doc newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.apache.xml.test.selectChldAtt.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.apache.xml.test.selectChldAtt.DocDocument newInstance() {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xml.test.selectChldAtt.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.apache.xml.test.selectChldAtt.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,876 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.impl;
+/**
+ * A document containing one doc(@http://xml.apache.org/test/selectChldAtt) element.
+ *
+ * This is a complex type.
+ */
+public class DocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xml.test.selectChldAtt.DocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOC$0 = 
+        new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "doc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 99640:
+                if (name.equals(DOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "doc" element
+     */
+    public org.apache.xml.test.selectChldAtt.DocDocument.Doc getDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xml.test.selectChldAtt.DocDocument.Doc target = null;
+            target = (org.apache.xml.test.selectChldAtt.DocDocument.Doc)get_store().find_element_user(DOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "doc" element
+     */
+    public void setDoc(org.apache.xml.test.selectChldAtt.DocDocument.Doc doc)
+    {
+        generatedSetterHelperImpl(doc, DOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "doc" element
+     */
+    public org.apache.xml.test.selectChldAtt.DocDocument.Doc addNewDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xml.test.selectChldAtt.DocDocument.Doc target = null;
+            target = (org.apache.xml.test.selectChldAtt.DocDocument.Doc)get_store().add_element_user(DOC$0);
+            return target;
+        }
+    }
+    /**
+     * An XML doc(@http://xml.apache.org/test/selectChldAtt).
+     *
+     * This is a complex type.
+     */
+    public static class DocImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xml.test.selectChldAtt.DocDocument.Doc
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DocImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName INT$0 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "int");
+        private static final javax.xml.namespace.QName STRING$2 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "string");
+        private static final javax.xml.namespace.QName ELEMA$4 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "elemA");
+        private static final javax.xml.namespace.QName ELEMB$6 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "elemB");
+        private static final javax.xml.namespace.QName ELEMC$8 = 
+            new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "elemC");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(5);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -891985903:
+                    if (name.equals(STRING$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 104431:
+                    if (name.equals(INT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 96593554:
+                    if (name.equals(ELEMA$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 96593555:
+                    if (name.equals(ELEMB$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+                case 96593556:
+                    if (name.equals(ELEMC$8))
+                        return ORDINAL$BASE + 4;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        public int[] getIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INT$0, targetList);
+                int[] result = new int[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "int" element
+         */
+        public int getIntArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(INT$0, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "int" elements
+         */
+        public org.apache.xmlbeans.XmlInt[] xgetIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(INT$0, targetList);
+                org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "int" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetIntArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "int" element
+         */
+        public int sizeOfIntArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(INT$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "int" element
+         */
+        public void setIntArray(int[] xintArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xintArray, INT$0);
+            }
+        }
+        
+        /**
+         * Sets ith "int" element
+         */
+        public void setIntArray(int i, int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "int" element
+         */
+        public void xsetIntArray(org.apache.xmlbeans.XmlInt[]xintArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(xintArray, INT$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "int" element
+         */
+        public void xsetIntArray(int i, org.apache.xmlbeans.XmlInt xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(xint);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "int" element
+         */
+        public void insertInt(int i, int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INT$0, i);
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "int" element
+         */
+        public void addInt(int xint)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INT$0);
+                target.setIntValue(xint);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "int" element
+         */
+        public org.apache.xmlbeans.XmlInt insertNewInt(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(INT$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "int" element
+         */
+        public org.apache.xmlbeans.XmlInt addNewInt()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(INT$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "int" element
+         */
+        public void removeInt(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(INT$0, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        public java.lang.String[] getStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(STRING$2, targetList);
+                java.lang.String[] result = new java.lang.String[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "string" element
+         */
+        public java.lang.String getStringArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "string" elements
+         */
+        public org.apache.xmlbeans.XmlString[] xgetStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(STRING$2, targetList);
+                org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "string" element
+         */
+        public org.apache.xmlbeans.XmlString xgetStringArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "string" element
+         */
+        public int sizeOfStringArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(STRING$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "string" element
+         */
+        public void setStringArray(java.lang.String[] stringArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(stringArray, STRING$2);
+            }
+        }
+        
+        /**
+         * Sets ith "string" element
+         */
+        public void setStringArray(int i, java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "string" element
+         */
+        public void xsetStringArray(org.apache.xmlbeans.XmlString[]stringArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(stringArray, STRING$2);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "string" element
+         */
+        public void xsetStringArray(int i, org.apache.xmlbeans.XmlString string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(string);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "string" element
+         */
+        public void insertString(int i, java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(STRING$2, i);
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "string" element
+         */
+        public void addString(java.lang.String string)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STRING$2);
+                target.setStringValue(string);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "string" element
+         */
+        public org.apache.xmlbeans.XmlString insertNewString(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(STRING$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "string" element
+         */
+        public org.apache.xmlbeans.XmlString addNewString()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STRING$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "string" element
+         */
+        public void removeString(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(STRING$2, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "elemA" elements
+         */
+        public org.apache.xml.test.selectChldAtt.TypeA[] getElemAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ELEMA$4, targetList);
+                org.apache.xml.test.selectChldAtt.TypeA[] result = new org.apache.xml.test.selectChldAtt.TypeA[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "elemA" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeA getElemAArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeA target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeA)get_store().find_element_user(ELEMA$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "elemA" element
+         */
+        public int sizeOfElemAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ELEMA$4);
+            }
+        }
+        
+        /**
+         * Sets array of all "elemA" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setElemAArray(org.apache.xml.test.selectChldAtt.TypeA[] elemAArray)
+        {
+            check_orphaned();
+            arraySetterHelper(elemAArray, ELEMA$4);
+        }
+        
+        /**
+         * Sets ith "elemA" element
+         */
+        public void setElemAArray(int i, org.apache.xml.test.selectChldAtt.TypeA elemA)
+        {
+            generatedSetterHelperImpl(elemA, ELEMA$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemA" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeA insertNewElemA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeA target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeA)get_store().insert_element_user(ELEMA$4, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemA" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeA addNewElemA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeA target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeA)get_store().add_element_user(ELEMA$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "elemA" element
+         */
+        public void removeElemA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ELEMA$4, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "elemB" elements
+         */
+        public org.apache.xml.test.selectChldAtt.TypeB[] getElemBArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ELEMB$6, targetList);
+                org.apache.xml.test.selectChldAtt.TypeB[] result = new org.apache.xml.test.selectChldAtt.TypeB[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "elemB" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeB getElemBArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeB target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeB)get_store().find_element_user(ELEMB$6, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "elemB" element
+         */
+        public int sizeOfElemBArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ELEMB$6);
+            }
+        }
+        
+        /**
+         * Sets array of all "elemB" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setElemBArray(org.apache.xml.test.selectChldAtt.TypeB[] elemBArray)
+        {
+            check_orphaned();
+            arraySetterHelper(elemBArray, ELEMB$6);
+        }
+        
+        /**
+         * Sets ith "elemB" element
+         */
+        public void setElemBArray(int i, org.apache.xml.test.selectChldAtt.TypeB elemB)
+        {
+            generatedSetterHelperImpl(elemB, ELEMB$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemB" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeB insertNewElemB(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeB target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeB)get_store().insert_element_user(ELEMB$6, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemB" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeB addNewElemB()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeB target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeB)get_store().add_element_user(ELEMB$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "elemB" element
+         */
+        public void removeElemB(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ELEMB$6, i);
+            }
+        }
+        
+        /**
+         * Gets array of all "elemC" elements
+         */
+        public org.apache.xml.test.selectChldAtt.TypeC[] getElemCArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ELEMC$8, targetList);
+                org.apache.xml.test.selectChldAtt.TypeC[] result = new org.apache.xml.test.selectChldAtt.TypeC[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "elemC" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeC getElemCArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeC target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeC)get_store().find_element_user(ELEMC$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "elemC" element
+         */
+        public int sizeOfElemCArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ELEMC$8);
+            }
+        }
+        
+        /**
+         * Sets array of all "elemC" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setElemCArray(org.apache.xml.test.selectChldAtt.TypeC[] elemCArray)
+        {
+            check_orphaned();
+            arraySetterHelper(elemCArray, ELEMC$8);
+        }
+        
+        /**
+         * Sets ith "elemC" element
+         */
+        public void setElemCArray(int i, org.apache.xml.test.selectChldAtt.TypeC elemC)
+        {
+            generatedSetterHelperImpl(elemC, ELEMC$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "elemC" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeC insertNewElemC(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeC target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeC)get_store().insert_element_user(ELEMC$8, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "elemC" element
+         */
+        public org.apache.xml.test.selectChldAtt.TypeC addNewElemC()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xml.test.selectChldAtt.TypeC target = null;
+                target = (org.apache.xml.test.selectChldAtt.TypeC)get_store().add_element_user(ELEMC$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "elemC" element
+         */
+        public void removeElemC(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ELEMC$8, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  typeA
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.TypeA
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.impl;
+/**
+ * An XML typeA(@http://xml.apache.org/test/selectChldAtt).
+ *
+ * This is a complex type.
+ */
+public class TypeAImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xml.test.selectChldAtt.TypeA
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeAImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
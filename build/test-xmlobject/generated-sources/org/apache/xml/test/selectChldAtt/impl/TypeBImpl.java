@@ -0,0 +1,214 @@
+/*
+ * XML Type:  typeB
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.TypeB
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.impl;
+/**
+ * An XML typeB(@http://xml.apache.org/test/selectChldAtt).
+ *
+ * This is a complex type.
+ */
+public class TypeBImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xml.test.selectChldAtt.TypeB
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeBImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SOMEELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "someElement");
+    private static final javax.xml.namespace.QName ATT1$2 = 
+        new javax.xml.namespace.QName("", "att1");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -341178520:
+                if (name.equals(SOMEELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "someElement" element
+     */
+    public int getSomeElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(SOMEELEMENT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "someElement" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetSomeElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(SOMEELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "someElement" element
+     */
+    public void setSomeElement(int someElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SOMEELEMENT$0);
+            }
+            target.setIntValue(someElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "someElement" element
+     */
+    public void xsetSomeElement(org.apache.xmlbeans.XmlInt someElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(SOMEELEMENT$0);
+            }
+            target.set(someElement);
+        }
+    }
+    
+    /**
+     * Gets the "att1" attribute
+     */
+    public java.lang.String getAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "att1" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "att1" attribute
+     */
+    public boolean isSetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATT1$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "att1" attribute
+     */
+    public void setAtt1(java.lang.String att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATT1$2);
+            }
+            target.setStringValue(att1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "att1" attribute
+     */
+    public void xsetAtt1(org.apache.xmlbeans.XmlString att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATT1$2);
+            }
+            target.set(att1);
+        }
+    }
+    
+    /**
+     * Unsets the "att1" attribute
+     */
+    public void unsetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATT1$2);
+        }
+    }
+}
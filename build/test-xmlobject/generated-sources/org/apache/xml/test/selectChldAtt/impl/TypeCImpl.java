@@ -0,0 +1,202 @@
+/*
+ * XML Type:  typeC
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.TypeC
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.impl;
+/**
+ * An XML typeC(@http://xml.apache.org/test/selectChldAtt).
+ *
+ * This is a complex type.
+ */
+public class TypeCImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.apache.xml.test.selectChldAtt.TypeC
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeCImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SOMEELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "someElement");
+    private static final javax.xml.namespace.QName ATT1$2 = 
+        new javax.xml.namespace.QName("", "att1");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -341178520:
+                if (name.equals(SOMEELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "someElement" element
+     */
+    public java.lang.String getSomeElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "someElement" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSomeElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SOMEELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "someElement" element
+     */
+    public void setSomeElement(java.lang.String someElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SOMEELEMENT$0);
+            }
+            target.setStringValue(someElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "someElement" element
+     */
+    public void xsetSomeElement(org.apache.xmlbeans.XmlString someElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SOMEELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SOMEELEMENT$0);
+            }
+            target.set(someElement);
+        }
+    }
+    
+    /**
+     * Gets the "att1" attribute
+     */
+    public java.lang.String getAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "att1" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "att1" attribute
+     */
+    public boolean isSetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATT1$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "att1" attribute
+     */
+    public void setAtt1(java.lang.String att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATT1$2);
+            }
+            target.setStringValue(att1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "att1" attribute
+     */
+    public void xsetAtt1(org.apache.xmlbeans.XmlString att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATT1$2);
+            }
+            target.set(att1);
+        }
+    }
+    
+    /**
+     * Unsets the "att1" attribute
+     */
+    public void unsetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATT1$2);
+        }
+    }
+}
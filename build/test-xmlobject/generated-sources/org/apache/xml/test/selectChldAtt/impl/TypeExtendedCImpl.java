@@ -0,0 +1,202 @@
+/*
+ * XML Type:  typeExtendedC
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.TypeExtendedC
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.impl;
+/**
+ * An XML typeExtendedC(@http://xml.apache.org/test/selectChldAtt).
+ *
+ * This is a complex type.
+ */
+public class TypeExtendedCImpl extends org.apache.xml.test.selectChldAtt.impl.TypeCImpl implements org.apache.xml.test.selectChldAtt.TypeExtendedC
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeExtendedCImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ADITIONALELEMENT$0 = 
+        new javax.xml.namespace.QName("http://xml.apache.org/test/selectChldAtt", "aditionalElement");
+    private static final javax.xml.namespace.QName ADITIONALATT$2 = 
+        new javax.xml.namespace.QName("", "aditionalAtt");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -118563625:
+                if (name.equals(ADITIONALELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "aditionalElement" element
+     */
+    public java.lang.String getAditionalElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADITIONALELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "aditionalElement" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAditionalElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ADITIONALELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "aditionalElement" element
+     */
+    public void setAditionalElement(java.lang.String aditionalElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADITIONALELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ADITIONALELEMENT$0);
+            }
+            target.setStringValue(aditionalElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "aditionalElement" element
+     */
+    public void xsetAditionalElement(org.apache.xmlbeans.XmlString aditionalElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ADITIONALELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ADITIONALELEMENT$0);
+            }
+            target.set(aditionalElement);
+        }
+    }
+    
+    /**
+     * Gets the "aditionalAtt" attribute
+     */
+    public java.lang.String getAditionalAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ADITIONALATT$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "aditionalAtt" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAditionalAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ADITIONALATT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "aditionalAtt" attribute
+     */
+    public boolean isSetAditionalAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ADITIONALATT$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "aditionalAtt" attribute
+     */
+    public void setAditionalAtt(java.lang.String aditionalAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ADITIONALATT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ADITIONALATT$2);
+            }
+            target.setStringValue(aditionalAtt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "aditionalAtt" attribute
+     */
+    public void xsetAditionalAtt(org.apache.xmlbeans.XmlString aditionalAtt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ADITIONALATT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ADITIONALATT$2);
+            }
+            target.set(aditionalAtt);
+        }
+    }
+    
+    /**
+     * Unsets the "aditionalAtt" attribute
+     */
+    public void unsetAditionalAtt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ADITIONALATT$2);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.pojo.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.pojo;
+
+/**
+ * A document containing one doc(@http://xml.apache.org/test/selectChldAtt) element.
+ *
+ * This is a plain Java binding of org.apache.xml.test.selectChldAtt.DocDocument.
+ */
+public class DocDocument
+{
+    private org.apache.xml.test.selectChldAtt.pojo.DocDocument.Doc _doc;
+    
+    /**
+     * Gets the "doc" element
+     */
+    public org.apache.xml.test.selectChldAtt.pojo.DocDocument.Doc getDoc()
+    {
+        return _doc;
+    }
+    
+    /**
+     * Sets the "doc" element
+     */
+    public void setDoc(org.apache.xml.test.selectChldAtt.pojo.DocDocument.Doc doc)
+    {
+        this._doc = doc;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be doc(@http://xml.apache.org/test/selectChldAtt), and leaves the reader on the end of
+     * that element.
+     */
+    public static DocDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DocDocument result = new DocDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xml.apache.org/test/selectChldAtt", "doc");
+        {
+            result._doc = org.apache.xml.test.selectChldAtt.pojo.DocDocument.Doc.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static DocDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static DocDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static DocDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._doc != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "doc", ns);
+            this._doc.write(writer, "http://xml.apache.org/test/selectChldAtt");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.apache.xml.test.selectChldAtt.DocDocument.Doc.
+     */
+    public static class Doc
+    {
+        private int[] _int;
+        private java.lang.String[] _string;
+        private org.apache.xml.test.selectChldAtt.pojo.TypeA[] _elemA;
+        private org.apache.xml.test.selectChldAtt.pojo.TypeB[] _elemB;
+        private org.apache.xml.test.selectChldAtt.pojo.TypeC[] _elemC;
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        public int[] getIntArray()
+        {
+            return _int;
+        }
+        
+        /**
+         * Sets array of all "int" elements
+         */
+        public void setIntArray(int[] xint)
+        {
+            this._int = xint;
+        }
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        public java.lang.String[] getStringArray()
+        {
+            return _string;
+        }
+        
+        /**
+         * Sets array of all "string" elements
+         */
+        public void setStringArray(java.lang.String[] string)
+        {
+            this._string = string;
+        }
+        
+        /**
+         * Gets array of all "elemA" elements
+         */
+        public org.apache.xml.test.selectChldAtt.pojo.TypeA[] getElemAArray()
+        {
+            return _elemA;
+        }
+        
+        /**
+         * Sets array of all "elemA" elements
+         */
+        public void setElemAArray(org.apache.xml.test.selectChldAtt.pojo.TypeA[] elemA)
+        {
+            this._elemA = elemA;
+        }
+        
+        /**
+         * Gets array of all "elemB" elements
+         */
+        public org.apache.xml.test.selectChldAtt.pojo.TypeB[] getElemBArray()
+        {
+            return _elemB;
+        }
+        
+        /**
+         * Sets array of all "elemB" elements
+         */
+        public void setElemBArray(org.apache.xml.test.selectChldAtt.pojo.TypeB[] elemB)
+        {
+            this._elemB = elemB;
+        }
+        
+        /**
+         * Gets array of all "elemC" elements
+         */
+        public org.apache.xml.test.selectChldAtt.pojo.TypeC[] getElemCArray()
+        {
+            return _elemC;
+        }
+        
+        /**
+         * Sets array of all "elemC" elements
+         */
+        public void setElemCArray(org.apache.xml.test.selectChldAtt.pojo.TypeC[] elemC)
+        {
+            this._elemC = elemC;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Doc read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Doc result = new Doc();
+            int[] xintArray = new int[0]; int xintCount = 0;
+            java.lang.String[] stringArray = new java.lang.String[0]; int stringCount = 0;
+            org.apache.xml.test.selectChldAtt.pojo.TypeA[] elemAArray = new org.apache.xml.test.selectChldAtt.pojo.TypeA[0]; int elemACount = 0;
+            org.apache.xml.test.selectChldAtt.pojo.TypeB[] elemBArray = new org.apache.xml.test.selectChldAtt.pojo.TypeB[0]; int elemBCount = 0;
+            org.apache.xml.test.selectChldAtt.pojo.TypeC[] elemCArray = new org.apache.xml.test.selectChldAtt.pojo.TypeC[0]; int elemCCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("int".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+                {
+                    if (xintCount == xintArray.length)
+                    {
+                        int[] grown = new int[xintCount * 2 + 4];
+                        java.lang.System.arraycopy(xintArray, 0, grown, 0, xintCount);
+                        xintArray = grown;
+                    }
+                    xintArray[xintCount++] = reader.getIntValue();
+                }
+                else if ("string".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+                {
+                    if (stringCount == stringArray.length)
+                    {
+                        java.lang.String[] grown = new java.lang.String[stringCount * 2 + 4];
+                        java.lang.System.arraycopy(stringArray, 0, grown, 0, stringCount);
+                        stringArray = grown;
+                    }
+                    stringArray[stringCount++] = reader.getStringValue();
+                }
+                else if ("elemA".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+                {
+                    if (elemACount == elemAArray.length)
+                    {
+                        org.apache.xml.test.selectChldAtt.pojo.TypeA[] grown = new org.apache.xml.test.selectChldAtt.pojo.TypeA[elemACount * 2 + 4];
+                        java.lang.System.arraycopy(elemAArray, 0, grown, 0, elemACount);
+                        elemAArray = grown;
+                    }
+                    elemAArray[elemACount++] = org.apache.xml.test.selectChldAtt.pojo.TypeA.read(reader);
+                }
+                else if ("elemB".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+                {
+                    if (elemBCount == elemBArray.length)
+                    {
+                        org.apache.xml.test.selectChldAtt.pojo.TypeB[] grown = new org.apache.xml.test.selectChldAtt.pojo.TypeB[elemBCount * 2 + 4];
+                        java.lang.System.arraycopy(elemBArray, 0, grown, 0, elemBCount);
+                        elemBArray = grown;
+                    }
+                    elemBArray[elemBCount++] = org.apache.xml.test.selectChldAtt.pojo.TypeB.read(reader);
+                }
+                else if ("elemC".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+                {
+                    if (elemCCount == elemCArray.length)
+                    {
+                        org.apache.xml.test.selectChldAtt.pojo.TypeC[] grown = new org.apache.xml.test.selectChldAtt.pojo.TypeC[elemCCount * 2 + 4];
+                        java.lang.System.arraycopy(elemCArray, 0, grown, 0, elemCCount);
+                        elemCArray = grown;
+                    }
+                    elemCArray[elemCCount++] = org.apache.xml.test.selectChldAtt.pojo.TypeC.read(reader);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (xintCount != xintArray.length)
+            {
+                result._int = new int[xintCount];
+                java.lang.System.arraycopy(xintArray, 0, result._int, 0, xintCount);
+            }
+            else
+                result._int = xintArray;
+            
+            if (stringCount != stringArray.length)
+            {
+                result._string = new java.lang.String[stringCount];
+                java.lang.System.arraycopy(stringArray, 0, result._string, 0, stringCount);
+            }
+            else
+                result._string = stringArray;
+            
+            if (elemACount != elemAArray.length)
+            {
+                result._elemA = new org.apache.xml.test.selectChldAtt.pojo.TypeA[elemACount];
+                java.lang.System.arraycopy(elemAArray, 0, result._elemA, 0, elemACount);
+            }
+            else
+                result._elemA = elemAArray;
+            
+            if (elemBCount != elemBArray.length)
+            {
+                result._elemB = new org.apache.xml.test.selectChldAtt.pojo.TypeB[elemBCount];
+                java.lang.System.arraycopy(elemBArray, 0, result._elemB, 0, elemBCount);
+            }
+            else
+                result._elemB = elemBArray;
+            
+            if (elemCCount != elemCArray.length)
+            {
+                result._elemC = new org.apache.xml.test.selectChldAtt.pojo.TypeC[elemCCount];
+                java.lang.System.arraycopy(elemCArray, 0, result._elemC, 0, elemCCount);
+            }
+            else
+                result._elemC = elemCArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._int != null)
+            {
+                for (int i = 0; i < this._int.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "int", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._int[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._string != null)
+            {
+                for (int i = 0; i < this._string.length; i++)
+                {
+                    if (this._string[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "string", ns);
+                        writer.writeCharacters(this._string[i]);
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._elemA != null)
+            {
+                for (int i = 0; i < this._elemA.length; i++)
+                {
+                    if (this._elemA[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "elemA", ns);
+                        this._elemA[i].write(writer, "http://xml.apache.org/test/selectChldAtt");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._elemB != null)
+            {
+                for (int i = 0; i < this._elemB.length; i++)
+                {
+                    if (this._elemB[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "elemB", ns);
+                        this._elemB[i].write(writer, "http://xml.apache.org/test/selectChldAtt");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._elemC != null)
+            {
+                for (int i = 0; i < this._elemC.length; i++)
+                {
+                    if (this._elemC[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "elemC", ns);
+                        this._elemC[i].write(writer, "http://xml.apache.org/test/selectChldAtt");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * XML Type:  typeExtendedC
+ * Namespace: http://xml.apache.org/test/selectChldAtt
+ * Java type: org.apache.xml.test.selectChldAtt.pojo.TypeExtendedC
+ *
+ * Automatically generated - do not modify.
+ */
+package org.apache.xml.test.selectChldAtt.pojo;
+
+/**
+ * An XML typeExtendedC(@http://xml.apache.org/test/selectChldAtt).
+ *
+ * This is a plain Java binding of org.apache.xml.test.selectChldAtt.TypeExtendedC.
+ */
+public class TypeExtendedC
+{
+    private java.lang.String _att1;
+    private java.lang.String _aditionalAtt;
+    private java.lang.String _someElement;
+    private java.lang.String _aditionalElement;
+    
+    /**
+     * Gets the "att1" attribute
+     */
+    public java.lang.String getAtt1()
+    {
+        return _att1;
+    }
+    
+    /**
+     * Sets the "att1" attribute
+     */
+    public void setAtt1(java.lang.String att1)
+    {
+        this._att1 = att1;
+    }
+    
+    /**
+     * Gets the "aditionalAtt" attribute
+     */
+    public java.lang.String getAditionalAtt()
+    {
+        return _aditionalAtt;
+    }
+    
+    /**
+     * Sets the "aditionalAtt" attribute
+     */
+    public void setAditionalAtt(java.lang.String aditionalAtt)
+    {
+        this._aditionalAtt = aditionalAtt;
+    }
+    
+    /**
+     * Gets the "someElement" element
+     */
+    public java.lang.String getSomeElement()
+    {
+        return _someElement;
+    }
+    
+    /**
+     * Sets the "someElement" element
+     */
+    public void setSomeElement(java.lang.String someElement)
+    {
+        this._someElement = someElement;
+    }
+    
+    /**
+     * Gets the "aditionalElement" element
+     */
+    public java.lang.String getAditionalElement()
+    {
+        return _aditionalElement;
+    }
+    
+    /**
+     * Sets the "aditionalElement" element
+     */
+    public void setAditionalElement(java.lang.String aditionalElement)
+    {
+        this._aditionalElement = aditionalElement;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static TypeExtendedC read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TypeExtendedC result = new TypeExtendedC();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("att1".equals(local) && "".equals(uri))
+                result._att1 = reader.getAttributeStringValue(i);
+            else if ("aditionalAtt".equals(local) && "".equals(uri))
+                result._aditionalAtt = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("someElement".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+            {
+                result._someElement = reader.getStringValue();
+            }
+            else if ("aditionalElement".equals(local) && "http://xml.apache.org/test/selectChldAtt".equals(uri))
+            {
+                result._aditionalElement = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._att1 != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "att1", this._att1);
+        if (this._aditionalAtt != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "aditionalAtt", this._aditionalAtt);
+        if (this._someElement != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "someElement", ns);
+            writer.writeCharacters(this._someElement);
+            writer.writeEndElement();
+        }
+        if (this._aditionalElement != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xml.apache.org/test/selectChldAtt", "aditionalElement", ns);
+            writer.writeCharacters(this._aditionalElement);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: color
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.ColorDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.impl;
+/**
+ * A document containing one color(@http://example.org/prod) element.
+ *
+ * This is a complex type.
+ */
+public class ColorDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.example.prod.ColorDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ColorDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COLOR$0 = 
+        new javax.xml.namespace.QName("http://example.org/prod", "color");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 94842723:
+                if (name.equals(COLOR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "color" element
+     */
+    public java.lang.String getColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COLOR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "color" element
+     */
+    public org.apache.xmlbeans.XmlString xgetColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COLOR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "color" element
+     */
+    public void setColor(java.lang.String color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COLOR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COLOR$0);
+            }
+            target.setStringValue(color);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "color" element
+     */
+    public void xsetColor(org.apache.xmlbeans.XmlString color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COLOR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COLOR$0);
+            }
+            target.set(color);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  DressSizeType
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.DressSizeType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.impl;
+/**
+ * An XML DressSizeType(@http://example.org/prod).
+ *
+ * This is an atomic type that is a restriction of org.example.prod.DressSizeType.
+ */
+public class DressSizeTypeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.example.prod.DressSizeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DressSizeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DressSizeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
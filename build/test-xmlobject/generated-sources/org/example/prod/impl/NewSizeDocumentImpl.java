@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: newSize
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.NewSizeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.impl;
+/**
+ * A document containing one newSize(@http://example.org/prod) element.
+ *
+ * This is a complex type.
+ */
+public class NewSizeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.example.prod.NewSizeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NewSizeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NEWSIZE$0 = 
+        new javax.xml.namespace.QName("http://example.org/prod", "newSize");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1845177793:
+                if (name.equals(NEWSIZE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "newSize" element
+     */
+    public int getNewSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(NEWSIZE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEWSIZE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "newSize" element
+     */
+    public org.example.prod.DressSizeType xgetNewSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.example.prod.DressSizeType target = null;
+            target = (org.example.prod.DressSizeType)get_store().find_element_user(NEWSIZE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "newSize" element
+     */
+    public void setNewSize(int newSize)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NEWSIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NEWSIZE$0);
+            }
+            target.setIntValue(newSize);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "newSize" element
+     */
+    public void xsetNewSize(org.example.prod.DressSizeType newSize)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.example.prod.DressSizeType target = null;
+            target = (org.example.prod.DressSizeType)get_store().find_element_user(NEWSIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.example.prod.DressSizeType)get_store().add_element_user(NEWSIZE$0);
+            }
+            target.set(newSize);
+        }
+    }
+}
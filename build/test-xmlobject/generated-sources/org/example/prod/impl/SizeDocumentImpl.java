@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: size
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.SizeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.impl;
+/**
+ * A document containing one size(@http://example.org/prod) element.
+ *
+ * This is a complex type.
+ */
+public class SizeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.example.prod.SizeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SizeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIZE$0 = 
+        new javax.xml.namespace.QName("http://example.org/prod", "size");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3530753:
+                if (name.equals(SIZE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "size" element
+     */
+    public int getSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(SIZE$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "size" element
+     */
+    public org.example.prod.DressSizeType xgetSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.example.prod.DressSizeType target = null;
+            target = (org.example.prod.DressSizeType)get_store().find_element_user(SIZE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "size" element
+     */
+    public void setSize(int size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIZE$0);
+            }
+            target.setIntValue(size);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "size" element
+     */
+    public void xsetSize(org.example.prod.DressSizeType size)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.example.prod.DressSizeType target = null;
+            target = (org.example.prod.DressSizeType)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                target = (org.example.prod.DressSizeType)get_store().add_element_user(SIZE$0);
+            }
+            target.set(size);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: color
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.pojo.ColorDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.pojo;
+
+/**
+ * A document containing one color(@http://example.org/prod) element.
+ *
+ * This is a plain Java binding of org.example.prod.ColorDocument.
+ */
+public class ColorDocument
+{
+    private java.lang.String _color;
+    
+    /**
+     * Gets the "color" element
+     */
+    public java.lang.String getColor()
+    {
+        return _color;
+    }
+    
+    /**
+     * Sets the "color" element
+     */
+    public void setColor(java.lang.String color)
+    {
+        this._color = color;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be color(@http://example.org/prod), and leaves the reader on the end of
+     * that element.
+     */
+    public static ColorDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ColorDocument result = new ColorDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://example.org/prod", "color");
+        {
+            result._color = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ColorDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ColorDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ColorDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._color != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://example.org/prod", "color", ns);
+            writer.writeCharacters(this._color);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * An XML document type.
+ * Localname: newSize
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.pojo.NewSizeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.pojo;
+
+/**
+ * A document containing one newSize(@http://example.org/prod) element.
+ *
+ * This is a plain Java binding of org.example.prod.NewSizeDocument.
+ */
+public class NewSizeDocument
+{
+    private int _newSize;
+    
+    /**
+     * Gets the "newSize" element
+     */
+    public int getNewSize()
+    {
+        return _newSize;
+    }
+    
+    /**
+     * Sets the "newSize" element
+     */
+    public void setNewSize(int newSize)
+    {
+        this._newSize = newSize;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be newSize(@http://example.org/prod), and leaves the reader on the end of
+     * that element.
+     */
+    public static NewSizeDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        NewSizeDocument result = new NewSizeDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://example.org/prod", "newSize");
+        {
+            result._newSize = reader.getIntValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static NewSizeDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static NewSizeDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static NewSizeDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://example.org/prod", "newSize", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._newSize));
+            writer.writeEndElement();
+        }
+    }
+}
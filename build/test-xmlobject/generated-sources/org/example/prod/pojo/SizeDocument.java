@@ -0,0 +1,116 @@
+/*
+ * An XML document type.
+ * Localname: size
+ * Namespace: http://example.org/prod
+ * Java type: org.example.prod.pojo.SizeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.example.prod.pojo;
+
+/**
+ * A document containing one size(@http://example.org/prod) element.
+ *
+ * This is a plain Java binding of org.example.prod.SizeDocument.
+ */
+public class SizeDocument
+{
+    private int _size;
+    
+    /**
+     * Gets the "size" element
+     */
+    public int getSize()
+    {
+        return _size;
+    }
+    
+    /**
+     * Sets the "size" element
+     */
+    public void setSize(int size)
+    {
+        this._size = size;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be size(@http://example.org/prod), and leaves the reader on the end of
+     * that element.
+     */
+    public static SizeDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SizeDocument result = new SizeDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://example.org/prod", "size");
+        {
+            result._size = reader.getIntValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static SizeDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static SizeDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static SizeDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://example.org/prod", "size", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._size));
+            writer.writeEndElement();
+        }
+    }
+}
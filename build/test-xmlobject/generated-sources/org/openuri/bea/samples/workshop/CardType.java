@@ -0,0 +1,196 @@
+/*
+ * XML Type:  cardType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CardType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop;
+
+
+/**
+ * An XML cardType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a complex type.
+ */
+public interface CardType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CardType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("cardtypec0batype");
+    
+    /**
+     * Gets the "available-credit" element
+     */
+    byte getAvailableCredit();
+    
+    /**
+     * Gets (as xml) the "available-credit" element
+     */
+    org.apache.xmlbeans.XmlByte xgetAvailableCredit();
+    
+    /**
+     * Sets the "available-credit" element
+     */
+    void setAvailableCredit(byte availableCredit);
+    
+    /**
+     * Sets (as xml) the "available-credit" element
+     */
+    void xsetAvailableCredit(org.apache.xmlbeans.XmlByte availableCredit);
+    
+    /**
+     * Gets the "credit-used" element
+     */
+    byte getCreditUsed();
+    
+    /**
+     * Gets (as xml) the "credit-used" element
+     */
+    org.apache.xmlbeans.XmlByte xgetCreditUsed();
+    
+    /**
+     * Sets the "credit-used" element
+     */
+    void setCreditUsed(byte creditUsed);
+    
+    /**
+     * Sets (as xml) the "credit-used" element
+     */
+    void xsetCreditUsed(org.apache.xmlbeans.XmlByte creditUsed);
+    
+    /**
+     * Gets the "name" attribute
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * True if has "name" attribute
+     */
+    boolean isSetName();
+    
+    /**
+     * Sets the "name" attribute
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    void unsetName();
+    
+    /**
+     * Gets the "number" attribute
+     */
+    java.lang.String getNumber();
+    
+    /**
+     * Gets (as xml) the "number" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetNumber();
+    
+    /**
+     * True if has "number" attribute
+     */
+    boolean isSetNumber();
+    
+    /**
+     * Sets the "number" attribute
+     */
+    void setNumber(java.lang.String number);
+    
+    /**
+     * Sets (as xml) the "number" attribute
+     */
+    void xsetNumber(org.apache.xmlbeans.XmlString number);
+    
+    /**
+     * Unsets the "number" attribute
+     */
+    void unsetNumber();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.bea.samples.workshop.CardType newInstance() {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.bea.samples.workshop.CardType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CardType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.bea.samples.workshop.CardType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.bea.samples.workshop.CardType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.bea.samples.workshop.CardType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
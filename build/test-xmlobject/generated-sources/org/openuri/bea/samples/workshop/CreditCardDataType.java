@@ -0,0 +1,136 @@
+/*
+ * XML Type:  credit-card-dataType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CreditCardDataType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop;
+
+
+/**
+ * An XML credit-card-dataType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a complex type.
+ */
+public interface CreditCardDataType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CreditCardDataType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("creditcarddatatype921dtype");
+    
+    /**
+     * Gets array of all "customer" elements
+     */
+    org.openuri.bea.samples.workshop.CustomerType[] getCustomerArray();
+    
+    /**
+     * Gets ith "customer" element
+     */
+    org.openuri.bea.samples.workshop.CustomerType getCustomerArray(int i);
+    
+    /**
+     * Returns number of "customer" element
+     */
+    int sizeOfCustomerArray();
+    
+    /**
+     * Sets array of all "customer" element
+     */
+    void setCustomerArray(org.openuri.bea.samples.workshop.CustomerType[] customerArray);
+    
+    /**
+     * Sets ith "customer" element
+     */
+    void setCustomerArray(int i, org.openuri.bea.samples.workshop.CustomerType customer);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "customer" element
+     */
+    org.openuri.bea.samples.workshop.CustomerType insertNewCustomer(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "customer" element
+     */
+    org.openuri.bea.samples.workshop.CustomerType addNewCustomer();
+    
+    /**
+     * Removes the ith "customer" element
+     */
+    void removeCustomer(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.bea.samples.workshop.CreditCardDataType newInstance() {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.bea.samples.workshop.CreditCardDataType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.bea.samples.workshop.CreditCardDataType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * XML Type:  cardType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CardType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.impl;
+/**
+ * An XML cardType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a complex type.
+ */
+public class CardTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.bea.samples.workshop.CardType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CardTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AVAILABLECREDIT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/bea/samples/workshop", "available-credit");
+    private static final javax.xml.namespace.QName CREDITUSED$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/bea/samples/workshop", "credit-used");
+    private static final javax.xml.namespace.QName NAME$4 = 
+        new javax.xml.namespace.QName("", "name");
+    private static final javax.xml.namespace.QName NUMBER$6 = 
+        new javax.xml.namespace.QName("", "number");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -349415919:
+                if (name.equals(CREDITUSED$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -25590147:
+                if (name.equals(AVAILABLECREDIT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "available-credit" element
+     */
+    public byte getAvailableCredit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(AVAILABLECREDIT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AVAILABLECREDIT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getByteValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "available-credit" element
+     */
+    public org.apache.xmlbeans.XmlByte xgetAvailableCredit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(AVAILABLECREDIT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "available-credit" element
+     */
+    public void setAvailableCredit(byte availableCredit)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AVAILABLECREDIT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AVAILABLECREDIT$0);
+            }
+            target.setByteValue(availableCredit);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "available-credit" element
+     */
+    public void xsetAvailableCredit(org.apache.xmlbeans.XmlByte availableCredit)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(AVAILABLECREDIT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_element_user(AVAILABLECREDIT$0);
+            }
+            target.set(availableCredit);
+        }
+    }
+    
+    /**
+     * Gets the "credit-used" element
+     */
+    public byte getCreditUsed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(CREDITUSED$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CREDITUSED$2, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getByteValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "credit-used" element
+     */
+    public org.apache.xmlbeans.XmlByte xgetCreditUsed()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(CREDITUSED$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "credit-used" element
+     */
+    public void setCreditUsed(byte creditUsed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CREDITUSED$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CREDITUSED$2);
+            }
+            target.setByteValue(creditUsed);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "credit-used" element
+     */
+    public void xsetCreditUsed(org.apache.xmlbeans.XmlByte creditUsed)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_element_user(CREDITUSED$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_element_user(CREDITUSED$2);
+            }
+            target.set(creditUsed);
+        }
+    }
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "name" attribute
+     */
+    public boolean isSetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NAME$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAME$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAME$4);
+            }
+            target.setStringValue(name);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NAME$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NAME$4);
+            }
+            target.set(name);
+        }
+    }
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    public void unsetName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NAME$4);
+        }
+    }
+    
+    /**
+     * Gets the "number" attribute
+     */
+    public java.lang.String getNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NUMBER$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "number" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NUMBER$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "number" attribute
+     */
+    public boolean isSetNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(NUMBER$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "number" attribute
+     */
+    public void setNumber(java.lang.String number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NUMBER$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NUMBER$6);
+            }
+            target.setStringValue(number);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "number" attribute
+     */
+    public void xsetNumber(org.apache.xmlbeans.XmlString number)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(NUMBER$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(NUMBER$6);
+            }
+            target.set(number);
+        }
+    }
+    
+    /**
+     * Unsets the "number" attribute
+     */
+    public void unsetNumber()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(NUMBER$6);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: credit-card-data
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CreditCardDataDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.impl;
+/**
+ * A document containing one credit-card-data(@http://openuri.org/bea/samples/workshop) element.
+ *
+ * This is a complex type.
+ */
+public class CreditCardDataDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.bea.samples.workshop.CreditCardDataDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CreditCardDataDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CREDITCARDDATA$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/bea/samples/workshop", "credit-card-data");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97577587:
+                if (name.equals(CREDITCARDDATA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "credit-card-data" element
+     */
+    public org.openuri.bea.samples.workshop.CreditCardDataType getCreditCardData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CreditCardDataType target = null;
+            target = (org.openuri.bea.samples.workshop.CreditCardDataType)get_store().find_element_user(CREDITCARDDATA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "credit-card-data" element
+     */
+    public void setCreditCardData(org.openuri.bea.samples.workshop.CreditCardDataType creditCardData)
+    {
+        generatedSetterHelperImpl(creditCardData, CREDITCARDDATA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "credit-card-data" element
+     */
+    public org.openuri.bea.samples.workshop.CreditCardDataType addNewCreditCardData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CreditCardDataType target = null;
+            target = (org.openuri.bea.samples.workshop.CreditCardDataType)get_store().add_element_user(CREDITCARDDATA$0);
+            return target;
+        }
+    }
+}
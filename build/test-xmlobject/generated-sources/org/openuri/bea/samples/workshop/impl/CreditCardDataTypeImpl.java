@@ -0,0 +1,143 @@
+/*
+ * XML Type:  credit-card-dataType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CreditCardDataType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.impl;
+/**
+ * An XML credit-card-dataType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a complex type.
+ */
+public class CreditCardDataTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.bea.samples.workshop.CreditCardDataType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CreditCardDataTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CUSTOMER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/bea/samples/workshop", "customer");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 606175198:
+                if (name.equals(CUSTOMER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "customer" elements
+     */
+    public org.openuri.bea.samples.workshop.CustomerType[] getCustomerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CUSTOMER$0, targetList);
+            org.openuri.bea.samples.workshop.CustomerType[] result = new org.openuri.bea.samples.workshop.CustomerType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "customer" element
+     */
+    public org.openuri.bea.samples.workshop.CustomerType getCustomerArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CustomerType target = null;
+            target = (org.openuri.bea.samples.workshop.CustomerType)get_store().find_element_user(CUSTOMER$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "customer" element
+     */
+    public int sizeOfCustomerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CUSTOMER$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "customer" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCustomerArray(org.openuri.bea.samples.workshop.CustomerType[] customerArray)
+    {
+        check_orphaned();
+        arraySetterHelper(customerArray, CUSTOMER$0);
+    }
+    
+    /**
+     * Sets ith "customer" element
+     */
+    public void setCustomerArray(int i, org.openuri.bea.samples.workshop.CustomerType customer)
+    {
+        generatedSetterHelperImpl(customer, CUSTOMER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "customer" element
+     */
+    public org.openuri.bea.samples.workshop.CustomerType insertNewCustomer(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CustomerType target = null;
+            target = (org.openuri.bea.samples.workshop.CustomerType)get_store().insert_element_user(CUSTOMER$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "customer" element
+     */
+    public org.openuri.bea.samples.workshop.CustomerType addNewCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CustomerType target = null;
+            target = (org.openuri.bea.samples.workshop.CustomerType)get_store().add_element_user(CUSTOMER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "customer" element
+     */
+    public void removeCustomer(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CUSTOMER$0, i);
+        }
+    }
+}
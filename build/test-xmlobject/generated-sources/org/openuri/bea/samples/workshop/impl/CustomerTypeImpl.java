@@ -0,0 +1,249 @@
+/*
+ * XML Type:  customerType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.CustomerType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.impl;
+/**
+ * An XML customerType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a complex type.
+ */
+public class CustomerTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.bea.samples.workshop.CustomerType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CustomerTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CARD$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/bea/samples/workshop", "card");
+    private static final javax.xml.namespace.QName ID$2 = 
+        new javax.xml.namespace.QName("", "id");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3046160:
+                if (name.equals(CARD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "card" elements
+     */
+    public org.openuri.bea.samples.workshop.CardType[] getCardArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CARD$0, targetList);
+            org.openuri.bea.samples.workshop.CardType[] result = new org.openuri.bea.samples.workshop.CardType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "card" element
+     */
+    public org.openuri.bea.samples.workshop.CardType getCardArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CardType target = null;
+            target = (org.openuri.bea.samples.workshop.CardType)get_store().find_element_user(CARD$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "card" element
+     */
+    public int sizeOfCardArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CARD$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "card" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCardArray(org.openuri.bea.samples.workshop.CardType[] cardArray)
+    {
+        check_orphaned();
+        arraySetterHelper(cardArray, CARD$0);
+    }
+    
+    /**
+     * Sets ith "card" element
+     */
+    public void setCardArray(int i, org.openuri.bea.samples.workshop.CardType card)
+    {
+        generatedSetterHelperImpl(card, CARD$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "card" element
+     */
+    public org.openuri.bea.samples.workshop.CardType insertNewCard(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CardType target = null;
+            target = (org.openuri.bea.samples.workshop.CardType)get_store().insert_element_user(CARD$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "card" element
+     */
+    public org.openuri.bea.samples.workshop.CardType addNewCard()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.bea.samples.workshop.CardType target = null;
+            target = (org.openuri.bea.samples.workshop.CardType)get_store().add_element_user(CARD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "card" element
+     */
+    public void removeCard(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CARD$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public byte getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(ID$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getByteValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    public org.apache.xmlbeans.XmlByte xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_attribute_user(ID$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id" attribute
+     */
+    public boolean isSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(byte id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$2);
+            }
+            target.setByteValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    public void xsetId(org.apache.xmlbeans.XmlByte id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_attribute_user(ID$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_attribute_user(ID$2);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    public void unsetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID$2);
+        }
+    }
+}
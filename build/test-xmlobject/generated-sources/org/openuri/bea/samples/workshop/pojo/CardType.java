@@ -0,0 +1,150 @@
+/*
+ * XML Type:  cardType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.pojo.CardType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.pojo;
+
+/**
+ * An XML cardType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a plain Java binding of org.openuri.bea.samples.workshop.CardType.
+ */
+public class CardType
+{
+    private java.lang.String _name;
+    private java.lang.String _number;
+    private byte _availableCredit;
+    private byte _creditUsed;
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Gets the "number" attribute
+     */
+    public java.lang.String getNumber()
+    {
+        return _number;
+    }
+    
+    /**
+     * Sets the "number" attribute
+     */
+    public void setNumber(java.lang.String number)
+    {
+        this._number = number;
+    }
+    
+    /**
+     * Gets the "available-credit" element
+     */
+    public byte getAvailableCredit()
+    {
+        return _availableCredit;
+    }
+    
+    /**
+     * Sets the "available-credit" element
+     */
+    public void setAvailableCredit(byte availableCredit)
+    {
+        this._availableCredit = availableCredit;
+    }
+    
+    /**
+     * Gets the "credit-used" element
+     */
+    public byte getCreditUsed()
+    {
+        return _creditUsed;
+    }
+    
+    /**
+     * Sets the "credit-used" element
+     */
+    public void setCreditUsed(byte creditUsed)
+    {
+        this._creditUsed = creditUsed;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static CardType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CardType result = new CardType();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("name".equals(local) && "".equals(uri))
+                result._name = reader.getAttributeStringValue(i);
+            else if ("number".equals(local) && "".equals(uri))
+                result._number = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("available-credit".equals(local) && "http://openuri.org/bea/samples/workshop".equals(uri))
+            {
+                result._availableCredit = reader.getByteValue();
+            }
+            else if ("credit-used".equals(local) && "http://openuri.org/bea/samples/workshop".equals(uri))
+            {
+                result._creditUsed = reader.getByteValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._name != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "name", this._name);
+        if (this._number != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "number", this._number);
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/bea/samples/workshop", "available-credit", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printByte(this._availableCredit));
+            writer.writeEndElement();
+        }
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/bea/samples/workshop", "credit-used", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printByte(this._creditUsed));
+            writer.writeEndElement();
+        }
+    }
+}
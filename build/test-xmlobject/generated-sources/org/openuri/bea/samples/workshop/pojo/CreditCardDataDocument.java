@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: credit-card-data
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.pojo.CreditCardDataDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.pojo;
+
+/**
+ * A document containing one credit-card-data(@http://openuri.org/bea/samples/workshop) element.
+ *
+ * This is a plain Java binding of org.openuri.bea.samples.workshop.CreditCardDataDocument.
+ */
+public class CreditCardDataDocument
+{
+    private org.openuri.bea.samples.workshop.pojo.CreditCardDataType _creditCardData;
+    
+    /**
+     * Gets the "credit-card-data" element
+     */
+    public org.openuri.bea.samples.workshop.pojo.CreditCardDataType getCreditCardData()
+    {
+        return _creditCardData;
+    }
+    
+    /**
+     * Sets the "credit-card-data" element
+     */
+    public void setCreditCardData(org.openuri.bea.samples.workshop.pojo.CreditCardDataType creditCardData)
+    {
+        this._creditCardData = creditCardData;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be credit-card-data(@http://openuri.org/bea/samples/workshop), and leaves the reader on the end of
+     * that element.
+     */
+    public static CreditCardDataDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CreditCardDataDocument result = new CreditCardDataDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/bea/samples/workshop", "credit-card-data");
+        {
+            result._creditCardData = org.openuri.bea.samples.workshop.pojo.CreditCardDataType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static CreditCardDataDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static CreditCardDataDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static CreditCardDataDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._creditCardData != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/bea/samples/workshop", "credit-card-data", ns);
+            this._creditCardData.write(writer, "http://openuri.org/bea/samples/workshop");
+            writer.writeEndElement();
+        }
+    }
+}
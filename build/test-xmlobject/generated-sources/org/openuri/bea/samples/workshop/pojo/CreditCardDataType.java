@@ -0,0 +1,96 @@
+/*
+ * XML Type:  credit-card-dataType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.pojo.CreditCardDataType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.pojo;
+
+/**
+ * An XML credit-card-dataType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a plain Java binding of org.openuri.bea.samples.workshop.CreditCardDataType.
+ */
+public class CreditCardDataType
+{
+    private org.openuri.bea.samples.workshop.pojo.CustomerType[] _customer;
+    
+    /**
+     * Gets array of all "customer" elements
+     */
+    public org.openuri.bea.samples.workshop.pojo.CustomerType[] getCustomerArray()
+    {
+        return _customer;
+    }
+    
+    /**
+     * Sets array of all "customer" elements
+     */
+    public void setCustomerArray(org.openuri.bea.samples.workshop.pojo.CustomerType[] customer)
+    {
+        this._customer = customer;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static CreditCardDataType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CreditCardDataType result = new CreditCardDataType();
+        org.openuri.bea.samples.workshop.pojo.CustomerType[] customerArray = new org.openuri.bea.samples.workshop.pojo.CustomerType[0]; int customerCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("customer".equals(local) && "http://openuri.org/bea/samples/workshop".equals(uri))
+            {
+                if (customerCount == customerArray.length)
+                {
+                    org.openuri.bea.samples.workshop.pojo.CustomerType[] grown = new org.openuri.bea.samples.workshop.pojo.CustomerType[customerCount * 2 + 4];
+                    java.lang.System.arraycopy(customerArray, 0, grown, 0, customerCount);
+                    customerArray = grown;
+                }
+                customerArray[customerCount++] = org.openuri.bea.samples.workshop.pojo.CustomerType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (customerCount != customerArray.length)
+        {
+            result._customer = new org.openuri.bea.samples.workshop.pojo.CustomerType[customerCount];
+            java.lang.System.arraycopy(customerArray, 0, result._customer, 0, customerCount);
+        }
+        else
+            result._customer = customerArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._customer != null)
+        {
+            for (int i = 0; i < this._customer.length; i++)
+            {
+                if (this._customer[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/bea/samples/workshop", "customer", ns);
+                    this._customer[i].write(writer, "http://openuri.org/bea/samples/workshop");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * XML Type:  customerType
+ * Namespace: http://openuri.org/bea/samples/workshop
+ * Java type: org.openuri.bea.samples.workshop.pojo.CustomerType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.bea.samples.workshop.pojo;
+
+/**
+ * An XML customerType(@http://openuri.org/bea/samples/workshop).
+ *
+ * This is a plain Java binding of org.openuri.bea.samples.workshop.CustomerType.
+ */
+public class CustomerType
+{
+    private java.lang.Byte _id;
+    private org.openuri.bea.samples.workshop.pojo.CardType[] _card;
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.Byte getId()
+    {
+        return _id;
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.Byte id)
+    {
+        this._id = id;
+    }
+    
+    /**
+     * Gets array of all "card" elements
+     */
+    public org.openuri.bea.samples.workshop.pojo.CardType[] getCardArray()
+    {
+        return _card;
+    }
+    
+    /**
+     * Sets array of all "card" elements
+     */
+    public void setCardArray(org.openuri.bea.samples.workshop.pojo.CardType[] card)
+    {
+        this._card = card;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static CustomerType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CustomerType result = new CustomerType();
+        org.openuri.bea.samples.workshop.pojo.CardType[] cardArray = new org.openuri.bea.samples.workshop.pojo.CardType[0]; int cardCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("id".equals(local) && "".equals(uri))
+                result._id = java.lang.Byte.valueOf(reader.getAttributeByteValue(i));
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("card".equals(local) && "http://openuri.org/bea/samples/workshop".equals(uri))
+            {
+                if (cardCount == cardArray.length)
+                {
+                    org.openuri.bea.samples.workshop.pojo.CardType[] grown = new org.openuri.bea.samples.workshop.pojo.CardType[cardCount * 2 + 4];
+                    java.lang.System.arraycopy(cardArray, 0, grown, 0, cardCount);
+                    cardArray = grown;
+                }
+                cardArray[cardCount++] = org.openuri.bea.samples.workshop.pojo.CardType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (cardCount != cardArray.length)
+        {
+            result._card = new org.openuri.bea.samples.workshop.pojo.CardType[cardCount];
+            java.lang.System.arraycopy(cardArray, 0, result._card, 0, cardCount);
+        }
+        else
+            result._card = cardArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._id != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "id", org.apache.xmlbeans.impl.util.XsTypeConverter.printByte(this._id.byteValue()));
+        if (this._card != null)
+        {
+            for (int i = 0; i < this._card.length; i++)
+            {
+                if (this._card[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/bea/samples/workshop", "card", ns);
+                    this._card[i].write(writer, "http://openuri.org/bea/samples/workshop");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
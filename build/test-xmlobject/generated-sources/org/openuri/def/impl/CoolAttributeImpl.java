@@ -0,0 +1,139 @@
+/*
+ * An XML attribute type.
+ * Localname: cool
+ * Namespace: http://openuri.org/def
+ * Java type: org.openuri.def.CoolAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.def.impl;
+/**
+ * A document containing one cool(@http://openuri.org/def) attribute.
+ *
+ * This is a complex type.
+ */
+public class CoolAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.def.CoolAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CoolAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName COOL$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/def", "cool");
+    
+    
+    /**
+     * Gets the "cool" attribute
+     */
+    public int getCool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(COOL$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COOL$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(COOL$0);
+            }
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "cool" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetCool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(COOL$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(COOL$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "cool" attribute
+     */
+    public boolean isSetCool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(COOL$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "cool" attribute
+     */
+    public void setCool(int cool)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COOL$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COOL$0);
+            }
+            target.setIntValue(cool);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "cool" attribute
+     */
+    public void xsetCool(org.apache.xmlbeans.XmlInt cool)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(COOL$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(COOL$0);
+            }
+            target.set(cool);
+        }
+    }
+    
+    /**
+     * Unsets the "cool" attribute
+     */
+    public void unsetCool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(COOL$0);
+        }
+    }
+}
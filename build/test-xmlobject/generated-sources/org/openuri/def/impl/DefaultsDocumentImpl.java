@@ -0,0 +1,211 @@
+/*
+ * An XML document type.
+ * Localname: defaults
+ * Namespace: http://openuri.org/def
+ * Java type: org.openuri.def.DefaultsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.def.impl;
+/**
+ * A document containing one defaults(@http://openuri.org/def) element.
+ *
+ * This is a complex type.
+ */
+public class DefaultsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.def.DefaultsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DefaultsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DEFAULTS$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/def", "defaults");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 644280914:
+                if (name.equals(DEFAULTS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "defaults" element
+     */
+    public org.openuri.def.DefaultsDocument.Defaults getDefaults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.def.DefaultsDocument.Defaults target = null;
+            target = (org.openuri.def.DefaultsDocument.Defaults)get_store().find_element_user(DEFAULTS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "defaults" element
+     */
+    public void setDefaults(org.openuri.def.DefaultsDocument.Defaults defaults)
+    {
+        generatedSetterHelperImpl(defaults, DEFAULTS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "defaults" element
+     */
+    public org.openuri.def.DefaultsDocument.Defaults addNewDefaults()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.def.DefaultsDocument.Defaults target = null;
+            target = (org.openuri.def.DefaultsDocument.Defaults)get_store().add_element_user(DEFAULTS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML defaults(@http://openuri.org/def).
+     *
+     * This is a complex type.
+     */
+    public static class DefaultsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.def.DefaultsDocument.Defaults
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DefaultsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName COOL$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/def", "cool");
+        
+        
+        /**
+         * Gets the "cool" attribute
+         */
+        public int getCool()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(COOL$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COOL$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(COOL$0);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "cool" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetCool()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(COOL$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(COOL$0);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "cool" attribute
+         */
+        public boolean isSetCool()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(COOL$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "cool" attribute
+         */
+        public void setCool(int cool)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COOL$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COOL$0);
+                }
+                target.setIntValue(cool);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "cool" attribute
+         */
+        public void xsetCool(org.apache.xmlbeans.XmlInt cool)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(COOL$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(COOL$0);
+                }
+                target.set(cool);
+            }
+        }
+        
+        /**
+         * Unsets the "cool" attribute
+         */
+        public void unsetCool()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(COOL$0);
+            }
+        }
+    }
+}
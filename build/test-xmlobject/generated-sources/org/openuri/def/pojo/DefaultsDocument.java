@@ -0,0 +1,184 @@
+/*
+ * An XML document type.
+ * Localname: defaults
+ * Namespace: http://openuri.org/def
+ * Java type: org.openuri.def.pojo.DefaultsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.def.pojo;
+
+/**
+ * A document containing one defaults(@http://openuri.org/def) element.
+ *
+ * This is a plain Java binding of org.openuri.def.DefaultsDocument.
+ */
+public class DefaultsDocument
+{
+    private org.openuri.def.pojo.DefaultsDocument.Defaults _defaults;
+    
+    /**
+     * Gets the "defaults" element
+     */
+    public org.openuri.def.pojo.DefaultsDocument.Defaults getDefaults()
+    {
+        return _defaults;
+    }
+    
+    /**
+     * Sets the "defaults" element
+     */
+    public void setDefaults(org.openuri.def.pojo.DefaultsDocument.Defaults defaults)
+    {
+        this._defaults = defaults;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be defaults(@http://openuri.org/def), and leaves the reader on the end of
+     * that element.
+     */
+    public static DefaultsDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DefaultsDocument result = new DefaultsDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/def", "defaults");
+        {
+            result._defaults = org.openuri.def.pojo.DefaultsDocument.Defaults.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static DefaultsDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static DefaultsDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static DefaultsDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._defaults != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/def", "defaults", ns);
+            this._defaults.write(writer, "http://openuri.org/def");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.def.DefaultsDocument.Defaults.
+     */
+    public static class Defaults
+    {
+        private static final java.lang.Integer COOL$DEFAULT = java.lang.Integer.valueOf(org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt("783"));
+        private java.lang.Integer _cool = COOL$DEFAULT;
+        
+        /**
+         * Gets the "cool" attribute
+         */
+        public java.lang.Integer getCool()
+        {
+            return _cool;
+        }
+        
+        /**
+         * Sets the "cool" attribute
+         */
+        public void setCool(java.lang.Integer cool)
+        {
+            this._cool = cool;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Defaults read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Defaults result = new Defaults();
+            
+            for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+            {
+                java.lang.String local = reader.getAttributeLocalName(i);
+                java.lang.String uri = reader.getAttributeNamespace(i);
+                if (uri == null)
+                    uri = "";
+                if ("cool".equals(local) && "http://openuri.org/def".equals(uri))
+                    result._cool = java.lang.Integer.valueOf(reader.getAttributeIntValue(i));
+            }
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._cool != null)
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "http://openuri.org/def", "cool", org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._cool.intValue()));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * An XML document type.
+ * Localname: incident-reports
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.IncidentReportsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut;
+
+
+/**
+ * A document containing one incident-reports(@http://openuri.org/lut) element.
+ *
+ * This is a complex type.
+ */
+public interface IncidentReportsDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(IncidentReportsDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("incidentreportsfc65doctype");
+    
+    /**
+     * Gets the "incident-reports" element
+     */
+    org.openuri.lut.IncidentReportsDocument.IncidentReports getIncidentReports();
+    
+    /**
+     * Sets the "incident-reports" element
+     */
+    void setIncidentReports(org.openuri.lut.IncidentReportsDocument.IncidentReports incidentReports);
+    
+    /**
+     * Appends and returns a new empty "incident-reports" element
+     */
+    org.openuri.lut.IncidentReportsDocument.IncidentReports addNewIncidentReports();
+    
+    /**
+     * An XML incident-reports(@http://openuri.org/lut).
+     *
+     * This is a complex type.
+     */
+    public interface IncidentReports extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(IncidentReports.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("incidentreportse4c5elemtype");
+        
+        /**
+         * Gets array of all "when" elements
+         */
+        java.util.Calendar[] getWhenArray();
+        
+        /**
+         * Gets ith "when" element
+         */
+        java.util.Calendar getWhenArray(int i);
+        
+        /**
+         * Gets (as xml) array of all "when" elements
+         */
+        org.openuri.lut.DateOrDateTime[] xgetWhenArray();
+        
+        /**
+         * Gets (as xml) ith "when" element
+         */
+        org.openuri.lut.DateOrDateTime xgetWhenArray(int i);
+        
+        /**
+         * Returns number of "when" element
+         */
+        int sizeOfWhenArray();
+        
+        /**
+         * Sets array of all "when" element
+         */
+        void setWhenArray(java.util.Calendar[] whenArray);
+        
+        /**
+         * Sets ith "when" element
+         */
+        void setWhenArray(int i, java.util.Calendar when);
+        
+        /**
+         * Sets (as xml) array of all "when" element
+         */
+        void xsetWhenArray(org.openuri.lut.DateOrDateTime[] whenArray);
+        
+        /**
+         * Sets (as xml) ith "when" element
+         */
+        void xsetWhenArray(int i, org.openuri.lut.DateOrDateTime when);
+        
+        /**
+         * Inserts the value as the ith "when" element
+         */
+        void insertWhen(int i, java.util.Calendar when);
+        
+        /**
+         * Appends the value as the last "when" element
+         */
+        void addWhen(java.util.Calendar when);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "when" element
+         */
+        org.openuri.lut.DateOrDateTime insertNewWhen(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "when" element
+         */
+        org.openuri.lut.DateOrDateTime addNewWhen();
+        
+        /**
+         * Removes the ith "when" element
+         */
+        void removeWhen(int i);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.lut.IncidentReportsDocument.IncidentReports newInstance() {
+              return (org.openuri.lut.IncidentReportsDocument.IncidentReports) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.lut.IncidentReportsDocument.IncidentReports newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.lut.IncidentReportsDocument.IncidentReports) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.lut.IncidentReportsDocument newInstance() {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.lut.IncidentReportsDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.lut.IncidentReportsDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.lut.IncidentReportsDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.lut.IncidentReportsDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.lut.IncidentReportsDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * XML Type:  allNNI
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.AllNNI
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * An XML allNNI(@http://openuri.org/lut).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     org.apache.xmlbeans.XmlNonNegativeInteger
+ *     org.openuri.lut.AllNNI$Member
+ */
+public class AllNNIImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements org.openuri.lut.AllNNI, org.apache.xmlbeans.XmlNonNegativeInteger, org.openuri.lut.AllNNI.Member
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AllNNIImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected AllNNIImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of org.openuri.lut.AllNNI$Member.
+     */
+    public static class MemberImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.openuri.lut.AllNNI.Member
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MemberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected MemberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
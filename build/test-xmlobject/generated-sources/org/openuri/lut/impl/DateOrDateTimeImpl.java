@@ -0,0 +1,29 @@
+/*
+ * XML Type:  date-or-dateTime
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.DateOrDateTime
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * An XML date-or-dateTime(@http://openuri.org/lut).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     org.apache.xmlbeans.XmlDateTime
+ *     org.apache.xmlbeans.XmlDate
+ */
+public class DateOrDateTimeImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements org.openuri.lut.DateOrDateTime, org.apache.xmlbeans.XmlDateTime, org.apache.xmlbeans.XmlDate
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DateOrDateTimeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DateOrDateTimeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
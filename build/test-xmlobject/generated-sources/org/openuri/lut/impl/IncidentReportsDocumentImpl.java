@@ -0,0 +1,322 @@
+/*
+ * An XML document type.
+ * Localname: incident-reports
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.IncidentReportsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * A document containing one incident-reports(@http://openuri.org/lut) element.
+ *
+ * This is a complex type.
+ */
+public class IncidentReportsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.IncidentReportsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IncidentReportsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName INCIDENTREPORTS$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/lut", "incident-reports");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1214150716:
+                if (name.equals(INCIDENTREPORTS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "incident-reports" element
+     */
+    public org.openuri.lut.IncidentReportsDocument.IncidentReports getIncidentReports()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.IncidentReportsDocument.IncidentReports target = null;
+            target = (org.openuri.lut.IncidentReportsDocument.IncidentReports)get_store().find_element_user(INCIDENTREPORTS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "incident-reports" element
+     */
+    public void setIncidentReports(org.openuri.lut.IncidentReportsDocument.IncidentReports incidentReports)
+    {
+        generatedSetterHelperImpl(incidentReports, INCIDENTREPORTS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "incident-reports" element
+     */
+    public org.openuri.lut.IncidentReportsDocument.IncidentReports addNewIncidentReports()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.IncidentReportsDocument.IncidentReports target = null;
+            target = (org.openuri.lut.IncidentReportsDocument.IncidentReports)get_store().add_element_user(INCIDENTREPORTS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML incident-reports(@http://openuri.org/lut).
+     *
+     * This is a complex type.
+     */
+    public static class IncidentReportsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.IncidentReportsDocument.IncidentReports
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public IncidentReportsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName WHEN$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/lut", "when");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 3648314:
+                    if (name.equals(WHEN$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "when" elements
+         */
+        public java.util.Calendar[] getWhenArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(WHEN$0, targetList);
+                java.util.Calendar[] result = new java.util.Calendar[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getCalendarValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "when" element
+         */
+        public java.util.Calendar getWhenArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WHEN$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "when" elements
+         */
+        public org.openuri.lut.DateOrDateTime[] xgetWhenArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(WHEN$0, targetList);
+                org.openuri.lut.DateOrDateTime[] result = new org.openuri.lut.DateOrDateTime[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "when" element
+         */
+        public org.openuri.lut.DateOrDateTime xgetWhenArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.DateOrDateTime target = null;
+                target = (org.openuri.lut.DateOrDateTime)get_store().find_element_user(WHEN$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "when" element
+         */
+        public int sizeOfWhenArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(WHEN$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "when" element
+         */
+        public void setWhenArray(java.util.Calendar[] whenArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(whenArray, WHEN$0);
+            }
+        }
+        
+        /**
+         * Sets ith "when" element
+         */
+        public void setWhenArray(int i, java.util.Calendar when)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WHEN$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setCalendarValue(when);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "when" element
+         */
+        public void xsetWhenArray(org.openuri.lut.DateOrDateTime[]whenArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(whenArray, WHEN$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "when" element
+         */
+        public void xsetWhenArray(int i, org.openuri.lut.DateOrDateTime when)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.DateOrDateTime target = null;
+                target = (org.openuri.lut.DateOrDateTime)get_store().find_element_user(WHEN$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(when);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "when" element
+         */
+        public void insertWhen(int i, java.util.Calendar when)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(WHEN$0, i);
+                target.setCalendarValue(when);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "when" element
+         */
+        public void addWhen(java.util.Calendar when)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WHEN$0);
+                target.setCalendarValue(when);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "when" element
+         */
+        public org.openuri.lut.DateOrDateTime insertNewWhen(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.DateOrDateTime target = null;
+                target = (org.openuri.lut.DateOrDateTime)get_store().insert_element_user(WHEN$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "when" element
+         */
+        public org.openuri.lut.DateOrDateTime addNewWhen()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.DateOrDateTime target = null;
+                target = (org.openuri.lut.DateOrDateTime)get_store().add_element_user(WHEN$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "when" element
+         */
+        public void removeWhen(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(WHEN$0, i);
+            }
+        }
+    }
+}
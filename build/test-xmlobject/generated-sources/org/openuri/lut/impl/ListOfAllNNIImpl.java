@@ -0,0 +1,27 @@
+/*
+ * XML Type:  list-of-allNNI
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.ListOfAllNNI
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * An XML list-of-allNNI(@http://openuri.org/lut).
+ *
+ * This is a list type whose items are org.openuri.lut.AllNNI.
+ */
+public class ListOfAllNNIImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements org.openuri.lut.ListOfAllNNI
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListOfAllNNIImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListOfAllNNIImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
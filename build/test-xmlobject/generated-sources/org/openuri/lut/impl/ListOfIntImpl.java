@@ -0,0 +1,27 @@
+/*
+ * XML Type:  list-of-int
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.ListOfInt
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * An XML list-of-int(@http://openuri.org/lut).
+ *
+ * This is a list type whose items are org.apache.xmlbeans.XmlInt.
+ */
+public class ListOfIntImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements org.openuri.lut.ListOfInt
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListOfIntImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListOfIntImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
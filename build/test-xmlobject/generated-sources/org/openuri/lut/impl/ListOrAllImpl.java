@@ -0,0 +1,48 @@
+/*
+ * XML Type:  list-or-all
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.ListOrAll
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * An XML list-or-all(@http://openuri.org/lut).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     org.openuri.lut.ListOfInt
+ *     org.openuri.lut.ListOrAll$Member
+ */
+public class ListOrAllImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements org.openuri.lut.ListOrAll, org.openuri.lut.ListOfInt, org.openuri.lut.ListOrAll.Member
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListOrAllImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ListOrAllImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of org.openuri.lut.ListOrAll$Member.
+     */
+    public static class MemberImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.openuri.lut.ListOrAll.Member
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MemberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected MemberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
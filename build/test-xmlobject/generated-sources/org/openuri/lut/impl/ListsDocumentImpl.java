@@ -0,0 +1,255 @@
+/*
+ * An XML document type.
+ * Localname: lists
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.ListsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * A document containing one lists(@http://openuri.org/lut) element.
+ *
+ * This is a complex type.
+ */
+public class ListsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.ListsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LISTS$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/lut", "lists");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 102982549:
+                if (name.equals(LISTS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "lists" element
+     */
+    public org.openuri.lut.ListsDocument.Lists getLists()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.ListsDocument.Lists target = null;
+            target = (org.openuri.lut.ListsDocument.Lists)get_store().find_element_user(LISTS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "lists" element
+     */
+    public void setLists(org.openuri.lut.ListsDocument.Lists lists)
+    {
+        generatedSetterHelperImpl(lists, LISTS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "lists" element
+     */
+    public org.openuri.lut.ListsDocument.Lists addNewLists()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.ListsDocument.Lists target = null;
+            target = (org.openuri.lut.ListsDocument.Lists)get_store().add_element_user(LISTS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML lists(@http://openuri.org/lut).
+     *
+     * This is a complex type.
+     */
+    public static class ListsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.ListsDocument.Lists
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ListsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName INTLIST$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/lut", "int-list");
+        private static final javax.xml.namespace.QName NNILIST$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/lut", "nni-list");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 327706946:
+                    if (name.equals(NNILIST$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 518510524:
+                    if (name.equals(INTLIST$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "int-list" element
+         */
+        public java.util.List getIntList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTLIST$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getListValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "int-list" element
+         */
+        public org.openuri.lut.ListOfInt xgetIntList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOfInt target = null;
+                target = (org.openuri.lut.ListOfInt)get_store().find_element_user(INTLIST$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "int-list" element
+         */
+        public void setIntList(java.util.List intList)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INTLIST$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INTLIST$0);
+                }
+                target.setListValue(intList);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "int-list" element
+         */
+        public void xsetIntList(org.openuri.lut.ListOfInt intList)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOfInt target = null;
+                target = (org.openuri.lut.ListOfInt)get_store().find_element_user(INTLIST$0, 0);
+                if (target == null)
+                {
+                    target = (org.openuri.lut.ListOfInt)get_store().add_element_user(INTLIST$0);
+                }
+                target.set(intList);
+            }
+        }
+        
+        /**
+         * Gets the "nni-list" element
+         */
+        public java.util.List getNniList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NNILIST$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getListValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "nni-list" element
+         */
+        public org.openuri.lut.ListOfAllNNI xgetNniList()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOfAllNNI target = null;
+                target = (org.openuri.lut.ListOfAllNNI)get_store().find_element_user(NNILIST$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "nni-list" element
+         */
+        public void setNniList(java.util.List nniList)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NNILIST$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NNILIST$2);
+                }
+                target.setListValue(nniList);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "nni-list" element
+         */
+        public void xsetNniList(org.openuri.lut.ListOfAllNNI nniList)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOfAllNNI target = null;
+                target = (org.openuri.lut.ListOfAllNNI)get_store().find_element_user(NNILIST$2, 0);
+                if (target == null)
+                {
+                    target = (org.openuri.lut.ListOfAllNNI)get_store().add_element_user(NNILIST$2);
+                }
+                target.set(nniList);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * An XML document type.
+ * Localname: unions
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.UnionsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * A document containing one unions(@http://openuri.org/lut) element.
+ *
+ * This is a complex type.
+ */
+public class UnionsDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.UnionsDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public UnionsDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName UNIONS$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/lut", "unions");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -840531068:
+                if (name.equals(UNIONS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "unions" element
+     */
+    public org.openuri.lut.UnionsDocument.Unions getUnions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.UnionsDocument.Unions target = null;
+            target = (org.openuri.lut.UnionsDocument.Unions)get_store().find_element_user(UNIONS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "unions" element
+     */
+    public void setUnions(org.openuri.lut.UnionsDocument.Unions unions)
+    {
+        generatedSetterHelperImpl(unions, UNIONS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "unions" element
+     */
+    public org.openuri.lut.UnionsDocument.Unions addNewUnions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.UnionsDocument.Unions target = null;
+            target = (org.openuri.lut.UnionsDocument.Unions)get_store().add_element_user(UNIONS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML unions(@http://openuri.org/lut).
+     *
+     * This is a complex type.
+     */
+    public static class UnionsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.UnionsDocument.Unions
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public UnionsImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NNI$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/lut", "nni");
+        private static final javax.xml.namespace.QName SIZES$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/lut", "sizes");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 109225:
+                    if (name.equals(NNI$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 109453458:
+                    if (name.equals(SIZES$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "nni" element
+         */
+        public java.lang.Object getNni()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NNI$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getObjectValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "nni" element
+         */
+        public org.openuri.lut.AllNNI xgetNni()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.AllNNI target = null;
+                target = (org.openuri.lut.AllNNI)get_store().find_element_user(NNI$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "nni" element
+         */
+        public void setNni(java.lang.Object nni)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NNI$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NNI$0);
+                }
+                target.setObjectValue(nni);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "nni" element
+         */
+        public void xsetNni(org.openuri.lut.AllNNI nni)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.AllNNI target = null;
+                target = (org.openuri.lut.AllNNI)get_store().find_element_user(NNI$0, 0);
+                if (target == null)
+                {
+                    target = (org.openuri.lut.AllNNI)get_store().add_element_user(NNI$0);
+                }
+                target.set(nni);
+            }
+        }
+        
+        /**
+         * Gets the "sizes" element
+         */
+        public java.lang.Object getSizes()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZES$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getObjectValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "sizes" element
+         */
+        public org.openuri.lut.ListOrAll xgetSizes()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOrAll target = null;
+                target = (org.openuri.lut.ListOrAll)get_store().find_element_user(SIZES$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "sizes" element
+         */
+        public void setSizes(java.lang.Object sizes)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIZES$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIZES$2);
+                }
+                target.setObjectValue(sizes);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "sizes" element
+         */
+        public void xsetSizes(org.openuri.lut.ListOrAll sizes)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.lut.ListOrAll target = null;
+                target = (org.openuri.lut.ListOrAll)get_store().find_element_user(SIZES$2, 0);
+                if (target == null)
+                {
+                    target = (org.openuri.lut.ListOrAll)get_store().add_element_user(SIZES$2);
+                }
+                target.set(sizes);
+            }
+        }
+    }
+}
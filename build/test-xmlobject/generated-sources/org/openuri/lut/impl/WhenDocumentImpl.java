@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: when
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.WhenDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.impl;
+/**
+ * A document containing one when(@http://openuri.org/lut) element.
+ *
+ * This is a complex type.
+ */
+public class WhenDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.lut.WhenDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WhenDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WHEN$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/lut", "when");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3648314:
+                if (name.equals(WHEN$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "when" element
+     */
+    public java.util.Calendar getWhen()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WHEN$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "when" element
+     */
+    public org.openuri.lut.DateOrDateTime xgetWhen()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.DateOrDateTime target = null;
+            target = (org.openuri.lut.DateOrDateTime)get_store().find_element_user(WHEN$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "when" element
+     */
+    public void setWhen(java.util.Calendar when)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WHEN$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WHEN$0);
+            }
+            target.setCalendarValue(when);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "when" element
+     */
+    public void xsetWhen(org.openuri.lut.DateOrDateTime when)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.lut.DateOrDateTime target = null;
+            target = (org.openuri.lut.DateOrDateTime)get_store().find_element_user(WHEN$0, 0);
+            if (target == null)
+            {
+                target = (org.openuri.lut.DateOrDateTime)get_store().add_element_user(WHEN$0);
+            }
+            target.set(when);
+        }
+    }
+}
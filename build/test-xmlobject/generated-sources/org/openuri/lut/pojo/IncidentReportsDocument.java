@@ -0,0 +1,205 @@
+/*
+ * An XML document type.
+ * Localname: incident-reports
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.pojo.IncidentReportsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.pojo;
+
+/**
+ * A document containing one incident-reports(@http://openuri.org/lut) element.
+ *
+ * This is a plain Java binding of org.openuri.lut.IncidentReportsDocument.
+ */
+public class IncidentReportsDocument
+{
+    private org.openuri.lut.pojo.IncidentReportsDocument.IncidentReports _incidentReports;
+    
+    /**
+     * Gets the "incident-reports" element
+     */
+    public org.openuri.lut.pojo.IncidentReportsDocument.IncidentReports getIncidentReports()
+    {
+        return _incidentReports;
+    }
+    
+    /**
+     * Sets the "incident-reports" element
+     */
+    public void setIncidentReports(org.openuri.lut.pojo.IncidentReportsDocument.IncidentReports incidentReports)
+    {
+        this._incidentReports = incidentReports;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be incident-reports(@http://openuri.org/lut), and leaves the reader on the end of
+     * that element.
+     */
+    public static IncidentReportsDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        IncidentReportsDocument result = new IncidentReportsDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/lut", "incident-reports");
+        {
+            result._incidentReports = org.openuri.lut.pojo.IncidentReportsDocument.IncidentReports.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static IncidentReportsDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static IncidentReportsDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static IncidentReportsDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._incidentReports != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "incident-reports", ns);
+            this._incidentReports.write(writer, "http://openuri.org/lut");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.lut.IncidentReportsDocument.IncidentReports.
+     */
+    public static class IncidentReports
+    {
+        private java.util.Calendar[] _when;
+        
+        /**
+         * Gets array of all "when" elements
+         */
+        public java.util.Calendar[] getWhenArray()
+        {
+            return _when;
+        }
+        
+        /**
+         * Sets array of all "when" elements
+         */
+        public void setWhenArray(java.util.Calendar[] when)
+        {
+            this._when = when;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static IncidentReports read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            IncidentReports result = new IncidentReports();
+            java.util.Calendar[] whenArray = new java.util.Calendar[0]; int whenCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("when".equals(local) && "http://openuri.org/lut".equals(uri))
+                {
+                    if (whenCount == whenArray.length)
+                    {
+                        java.util.Calendar[] grown = new java.util.Calendar[whenCount * 2 + 4];
+                        java.lang.System.arraycopy(whenArray, 0, grown, 0, whenCount);
+                        whenArray = grown;
+                    }
+                    whenArray[whenCount++] = reader.getCalendarValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (whenCount != whenArray.length)
+            {
+                result._when = new java.util.Calendar[whenCount];
+                java.lang.System.arraycopy(whenArray, 0, result._when, 0, whenCount);
+            }
+            else
+                result._when = whenArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._when != null)
+            {
+                for (int i = 0; i < this._when.length; i++)
+                {
+                    if (this._when[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "when", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._when[i], 2));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
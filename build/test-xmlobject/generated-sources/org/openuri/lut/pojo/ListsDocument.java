@@ -0,0 +1,211 @@
+/*
+ * An XML document type.
+ * Localname: lists
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.pojo.ListsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.pojo;
+
+/**
+ * A document containing one lists(@http://openuri.org/lut) element.
+ *
+ * This is a plain Java binding of org.openuri.lut.ListsDocument.
+ */
+public class ListsDocument
+{
+    private org.openuri.lut.pojo.ListsDocument.Lists _lists;
+    
+    /**
+     * Gets the "lists" element
+     */
+    public org.openuri.lut.pojo.ListsDocument.Lists getLists()
+    {
+        return _lists;
+    }
+    
+    /**
+     * Sets the "lists" element
+     */
+    public void setLists(org.openuri.lut.pojo.ListsDocument.Lists lists)
+    {
+        this._lists = lists;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be lists(@http://openuri.org/lut), and leaves the reader on the end of
+     * that element.
+     */
+    public static ListsDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ListsDocument result = new ListsDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/lut", "lists");
+        {
+            result._lists = org.openuri.lut.pojo.ListsDocument.Lists.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ListsDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ListsDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ListsDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._lists != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "lists", ns);
+            this._lists.write(writer, "http://openuri.org/lut");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.lut.ListsDocument.Lists.
+     */
+    public static class Lists
+    {
+        private java.lang.String _intList;
+        private java.lang.String _nniList;
+        
+        /**
+         * Gets the "int-list" element
+         */
+        public java.lang.String getIntList()
+        {
+            return _intList;
+        }
+        
+        /**
+         * Sets the "int-list" element
+         */
+        public void setIntList(java.lang.String intList)
+        {
+            this._intList = intList;
+        }
+        
+        /**
+         * Gets the "nni-list" element
+         */
+        public java.lang.String getNniList()
+        {
+            return _nniList;
+        }
+        
+        /**
+         * Sets the "nni-list" element
+         */
+        public void setNniList(java.lang.String nniList)
+        {
+            this._nniList = nniList;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Lists read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Lists result = new Lists();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("int-list".equals(local) && "http://openuri.org/lut".equals(uri))
+                {
+                    result._intList = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+                }
+                else if ("nni-list".equals(local) && "http://openuri.org/lut".equals(uri))
+                {
+                    result._nniList = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._intList != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "int-list", ns);
+                writer.writeCharacters(this._intList);
+                writer.writeEndElement();
+            }
+            if (this._nniList != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "nni-list", ns);
+                writer.writeCharacters(this._nniList);
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * An XML document type.
+ * Localname: unions
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.pojo.UnionsDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.pojo;
+
+/**
+ * A document containing one unions(@http://openuri.org/lut) element.
+ *
+ * This is a plain Java binding of org.openuri.lut.UnionsDocument.
+ */
+public class UnionsDocument
+{
+    private org.openuri.lut.pojo.UnionsDocument.Unions _unions;
+    
+    /**
+     * Gets the "unions" element
+     */
+    public org.openuri.lut.pojo.UnionsDocument.Unions getUnions()
+    {
+        return _unions;
+    }
+    
+    /**
+     * Sets the "unions" element
+     */
+    public void setUnions(org.openuri.lut.pojo.UnionsDocument.Unions unions)
+    {
+        this._unions = unions;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be unions(@http://openuri.org/lut), and leaves the reader on the end of
+     * that element.
+     */
+    public static UnionsDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        UnionsDocument result = new UnionsDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/lut", "unions");
+        {
+            result._unions = org.openuri.lut.pojo.UnionsDocument.Unions.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static UnionsDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static UnionsDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static UnionsDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._unions != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "unions", ns);
+            this._unions.write(writer, "http://openuri.org/lut");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.lut.UnionsDocument.Unions.
+     */
+    public static class Unions
+    {
+        private java.lang.String _nni;
+        private java.lang.String _sizes;
+        
+        /**
+         * Gets the "nni" element
+         */
+        public java.lang.String getNni()
+        {
+            return _nni;
+        }
+        
+        /**
+         * Sets the "nni" element
+         */
+        public void setNni(java.lang.String nni)
+        {
+            this._nni = nni;
+        }
+        
+        /**
+         * Gets the "sizes" element
+         */
+        public java.lang.String getSizes()
+        {
+            return _sizes;
+        }
+        
+        /**
+         * Sets the "sizes" element
+         */
+        public void setSizes(java.lang.String sizes)
+        {
+            this._sizes = sizes;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Unions read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Unions result = new Unions();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("nni".equals(local) && "http://openuri.org/lut".equals(uri))
+                {
+                    result._nni = reader.getStringValue();
+                }
+                else if ("sizes".equals(local) && "http://openuri.org/lut".equals(uri))
+                {
+                    result._sizes = reader.getStringValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._nni != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "nni", ns);
+                writer.writeCharacters(this._nni);
+                writer.writeEndElement();
+            }
+            if (this._sizes != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "sizes", ns);
+                writer.writeCharacters(this._sizes);
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: when
+ * Namespace: http://openuri.org/lut
+ * Java type: org.openuri.lut.pojo.WhenDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.lut.pojo;
+
+/**
+ * A document containing one when(@http://openuri.org/lut) element.
+ *
+ * This is a plain Java binding of org.openuri.lut.WhenDocument.
+ */
+public class WhenDocument
+{
+    private java.util.Calendar _when;
+    
+    /**
+     * Gets the "when" element
+     */
+    public java.util.Calendar getWhen()
+    {
+        return _when;
+    }
+    
+    /**
+     * Sets the "when" element
+     */
+    public void setWhen(java.util.Calendar when)
+    {
+        this._when = when;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be when(@http://openuri.org/lut), and leaves the reader on the end of
+     * that element.
+     */
+    public static WhenDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WhenDocument result = new WhenDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/lut", "when");
+        {
+            result._when = reader.getCalendarValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static WhenDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static WhenDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static WhenDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._when != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/lut", "when", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._when, 2));
+            writer.writeEndElement();
+        }
+    }
+}
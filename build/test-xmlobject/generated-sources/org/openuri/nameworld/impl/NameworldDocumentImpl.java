@@ -0,0 +1,445 @@
+/*
+ * An XML document type.
+ * Localname: nameworld
+ * Namespace: http://openuri.org/nameworld
+ * Java type: org.openuri.nameworld.NameworldDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.nameworld.impl;
+/**
+ * A document containing one nameworld(@http://openuri.org/nameworld) element.
+ *
+ * This is a complex type.
+ */
+public class NameworldDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.nameworld.NameworldDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NameworldDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAMEWORLD$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/nameworld", "nameworld");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1255899111:
+                if (name.equals(NAMEWORLD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "nameworld" element
+     */
+    public org.openuri.nameworld.NameworldDocument.Nameworld getNameworld()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.nameworld.NameworldDocument.Nameworld target = null;
+            target = (org.openuri.nameworld.NameworldDocument.Nameworld)get_store().find_element_user(NAMEWORLD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "nameworld" element
+     */
+    public void setNameworld(org.openuri.nameworld.NameworldDocument.Nameworld nameworld)
+    {
+        generatedSetterHelperImpl(nameworld, NAMEWORLD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "nameworld" element
+     */
+    public org.openuri.nameworld.NameworldDocument.Nameworld addNewNameworld()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.nameworld.NameworldDocument.Nameworld target = null;
+            target = (org.openuri.nameworld.NameworldDocument.Nameworld)get_store().add_element_user(NAMEWORLD$0);
+            return target;
+        }
+    }
+    /**
+     * An XML nameworld(@http://openuri.org/nameworld).
+     *
+     * This is a complex type.
+     */
+    public static class NameworldImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.nameworld.NameworldDocument.Nameworld
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public NameworldImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ISLAND$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/nameworld", "island");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1179387371:
+                    if (name.equals(ISLAND$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "island" elements
+         */
+        public org.openuri.nameworld.NameworldDocument.Nameworld.Island[] getIslandArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(ISLAND$0, targetList);
+                org.openuri.nameworld.NameworldDocument.Nameworld.Island[] result = new org.openuri.nameworld.NameworldDocument.Nameworld.Island[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "island" element
+         */
+        public org.openuri.nameworld.NameworldDocument.Nameworld.Island getIslandArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.nameworld.NameworldDocument.Nameworld.Island target = null;
+                target = (org.openuri.nameworld.NameworldDocument.Nameworld.Island)get_store().find_element_user(ISLAND$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "island" element
+         */
+        public int sizeOfIslandArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ISLAND$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "island" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setIslandArray(org.openuri.nameworld.NameworldDocument.Nameworld.Island[] islandArray)
+        {
+            check_orphaned();
+            arraySetterHelper(islandArray, ISLAND$0);
+        }
+        
+        /**
+         * Sets ith "island" element
+         */
+        public void setIslandArray(int i, org.openuri.nameworld.NameworldDocument.Nameworld.Island island)
+        {
+            generatedSetterHelperImpl(island, ISLAND$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "island" element
+         */
+        public org.openuri.nameworld.NameworldDocument.Nameworld.Island insertNewIsland(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.nameworld.NameworldDocument.Nameworld.Island target = null;
+                target = (org.openuri.nameworld.NameworldDocument.Nameworld.Island)get_store().insert_element_user(ISLAND$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "island" element
+         */
+        public org.openuri.nameworld.NameworldDocument.Nameworld.Island addNewIsland()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.nameworld.NameworldDocument.Nameworld.Island target = null;
+                target = (org.openuri.nameworld.NameworldDocument.Nameworld.Island)get_store().add_element_user(ISLAND$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "island" element
+         */
+        public void removeIsland(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ISLAND$0, i);
+            }
+        }
+        /**
+         * An XML island(@http://openuri.org/nameworld).
+         *
+         * This is a complex type.
+         */
+        public static class IslandImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.nameworld.NameworldDocument.Nameworld.Island
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public IslandImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName LOCATION$0 = 
+                new javax.xml.namespace.QName("http://openuri.org/nameworld", "location");
+            private static final javax.xml.namespace.QName TARGETNAMESPACE$2 = 
+                new javax.xml.namespace.QName("", "targetNamespace");
+            
+            private static final int ORDINAL$BASE = new_element_ordinals(1);
+            
+            public int get_element_ordinal(javax.xml.namespace.QName name)
+            {
+                switch (name.getLocalPart().hashCode())
+                {
+                    case 1901043637:
+                      if (name.equals(LOCATION$0))
+                          return ORDINAL$BASE + 0;
+                      break;
+                }
+                return super.get_element_ordinal(name);
+            }
+            
+            
+            /**
+             * Gets array of all "location" elements
+             */
+            public org.openuri.nameworld.Loc[] getLocationArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(LOCATION$0, targetList);
+                    org.openuri.nameworld.Loc[] result = new org.openuri.nameworld.Loc[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "location" element
+             */
+            public org.openuri.nameworld.Loc getLocationArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.openuri.nameworld.Loc target = null;
+                    target = (org.openuri.nameworld.Loc)get_store().find_element_user(LOCATION$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "location" element
+             */
+            public int sizeOfLocationArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(LOCATION$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "location" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setLocationArray(org.openuri.nameworld.Loc[] locationArray)
+            {
+                check_orphaned();
+                arraySetterHelper(locationArray, LOCATION$0);
+            }
+            
+            /**
+             * Sets ith "location" element
+             */
+            public void setLocationArray(int i, org.openuri.nameworld.Loc location)
+            {
+                generatedSetterHelperImpl(location, LOCATION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "location" element
+             */
+            public org.openuri.nameworld.Loc insertNewLocation(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.openuri.nameworld.Loc target = null;
+                    target = (org.openuri.nameworld.Loc)get_store().insert_element_user(LOCATION$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "location" element
+             */
+            public org.openuri.nameworld.Loc addNewLocation()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.openuri.nameworld.Loc target = null;
+                    target = (org.openuri.nameworld.Loc)get_store().add_element_user(LOCATION$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "location" element
+             */
+            public void removeLocation(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(LOCATION$0, i);
+                }
+            }
+            
+            /**
+             * Gets the "targetNamespace" attribute
+             */
+            public java.lang.String getTargetNamespace()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TARGETNAMESPACE$2);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "targetNamespace" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetTargetNamespace()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TARGETNAMESPACE$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "targetNamespace" attribute
+             */
+            public boolean isSetTargetNamespace()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(TARGETNAMESPACE$2) != null;
+                }
+            }
+            
+            /**
+             * Sets the "targetNamespace" attribute
+             */
+            public void setTargetNamespace(java.lang.String targetNamespace)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TARGETNAMESPACE$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TARGETNAMESPACE$2);
+                    }
+                    target.setStringValue(targetNamespace);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "targetNamespace" attribute
+             */
+            public void xsetTargetNamespace(org.apache.xmlbeans.XmlString targetNamespace)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(TARGETNAMESPACE$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(TARGETNAMESPACE$2);
+                    }
+                    target.set(targetNamespace);
+                }
+            }
+            
+            /**
+             * Unsets the "targetNamespace" attribute
+             */
+            public void unsetTargetNamespace()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(TARGETNAMESPACE$2);
+                }
+            }
+        }
+    }
+}
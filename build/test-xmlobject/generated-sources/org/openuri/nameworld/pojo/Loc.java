@@ -0,0 +1,191 @@
+/*
+ * XML Type:  loc
+ * Namespace: http://openuri.org/nameworld
+ * Java type: org.openuri.nameworld.pojo.Loc
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.nameworld.pojo;
+
+/**
+ * An XML loc(@http://openuri.org/nameworld).
+ *
+ * This is a plain Java binding of org.openuri.nameworld.Loc.
+ */
+public class Loc
+{
+    private java.lang.String _name;
+    private org.openuri.nameworld.pojo.Loc.Reference[] _reference;
+    
+    /**
+     * Gets the "name" attribute
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" attribute
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Gets array of all "reference" elements
+     */
+    public org.openuri.nameworld.pojo.Loc.Reference[] getReferenceArray()
+    {
+        return _reference;
+    }
+    
+    /**
+     * Sets array of all "reference" elements
+     */
+    public void setReferenceArray(org.openuri.nameworld.pojo.Loc.Reference[] reference)
+    {
+        this._reference = reference;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Loc read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Loc result = new Loc();
+        org.openuri.nameworld.pojo.Loc.Reference[] referenceArray = new org.openuri.nameworld.pojo.Loc.Reference[0]; int referenceCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("name".equals(local) && "".equals(uri))
+                result._name = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("reference".equals(local) && "http://openuri.org/nameworld".equals(uri))
+            {
+                if (referenceCount == referenceArray.length)
+                {
+                    org.openuri.nameworld.pojo.Loc.Reference[] grown = new org.openuri.nameworld.pojo.Loc.Reference[referenceCount * 2 + 4];
+                    java.lang.System.arraycopy(referenceArray, 0, grown, 0, referenceCount);
+                    referenceArray = grown;
+                }
+                referenceArray[referenceCount++] = org.openuri.nameworld.pojo.Loc.Reference.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (referenceCount != referenceArray.length)
+        {
+            result._reference = new org.openuri.nameworld.pojo.Loc.Reference[referenceCount];
+            java.lang.System.arraycopy(referenceArray, 0, result._reference, 0, referenceCount);
+        }
+        else
+            result._reference = referenceArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._name != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "name", this._name);
+        if (this._reference != null)
+        {
+            for (int i = 0; i < this._reference.length; i++)
+            {
+                if (this._reference[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/nameworld", "reference", ns);
+                    this._reference[i].write(writer, "http://openuri.org/nameworld");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.nameworld.Loc.Reference.
+     */
+    public static class Reference
+    {
+        private javax.xml.namespace.QName _to;
+        
+        /**
+         * Gets the "to" attribute
+         */
+        public javax.xml.namespace.QName getTo()
+        {
+            return _to;
+        }
+        
+        /**
+         * Sets the "to" attribute
+         */
+        public void setTo(javax.xml.namespace.QName to)
+        {
+            this._to = to;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Reference read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Reference result = new Reference();
+            
+            for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+            {
+                java.lang.String local = reader.getAttributeLocalName(i);
+                java.lang.String uri = reader.getAttributeNamespace(i);
+                if (uri == null)
+                    uri = "";
+                if ("to".equals(local) && "".equals(uri))
+                    result._to = reader.getAttributeQNameValue(i);
+            }
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._to != null)
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "to", org.apache.xmlbeans.impl.richParser.BindingSupport.printQName(writer, this._to, ns));
+        }
+    }
+}
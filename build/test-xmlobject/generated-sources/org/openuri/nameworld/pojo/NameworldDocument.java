@@ -0,0 +1,322 @@
+/*
+ * An XML document type.
+ * Localname: nameworld
+ * Namespace: http://openuri.org/nameworld
+ * Java type: org.openuri.nameworld.pojo.NameworldDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.nameworld.pojo;
+
+/**
+ * A document containing one nameworld(@http://openuri.org/nameworld) element.
+ *
+ * This is a plain Java binding of org.openuri.nameworld.NameworldDocument.
+ */
+public class NameworldDocument
+{
+    private org.openuri.nameworld.pojo.NameworldDocument.Nameworld _nameworld;
+    
+    /**
+     * Gets the "nameworld" element
+     */
+    public org.openuri.nameworld.pojo.NameworldDocument.Nameworld getNameworld()
+    {
+        return _nameworld;
+    }
+    
+    /**
+     * Sets the "nameworld" element
+     */
+    public void setNameworld(org.openuri.nameworld.pojo.NameworldDocument.Nameworld nameworld)
+    {
+        this._nameworld = nameworld;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be nameworld(@http://openuri.org/nameworld), and leaves the reader on the end of
+     * that element.
+     */
+    public static NameworldDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        NameworldDocument result = new NameworldDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/nameworld", "nameworld");
+        {
+            result._nameworld = org.openuri.nameworld.pojo.NameworldDocument.Nameworld.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static NameworldDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static NameworldDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static NameworldDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._nameworld != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/nameworld", "nameworld", ns);
+            this._nameworld.write(writer, "http://openuri.org/nameworld");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.nameworld.NameworldDocument.Nameworld.
+     */
+    public static class Nameworld
+    {
+        private org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[] _island;
+        
+        /**
+         * Gets array of all "island" elements
+         */
+        public org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[] getIslandArray()
+        {
+            return _island;
+        }
+        
+        /**
+         * Sets array of all "island" elements
+         */
+        public void setIslandArray(org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[] island)
+        {
+            this._island = island;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Nameworld read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Nameworld result = new Nameworld();
+            org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[] islandArray = new org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[0]; int islandCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("island".equals(local) && "http://openuri.org/nameworld".equals(uri))
+                {
+                    if (islandCount == islandArray.length)
+                    {
+                        org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[] grown = new org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[islandCount * 2 + 4];
+                        java.lang.System.arraycopy(islandArray, 0, grown, 0, islandCount);
+                        islandArray = grown;
+                    }
+                    islandArray[islandCount++] = org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island.read(reader);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (islandCount != islandArray.length)
+            {
+                result._island = new org.openuri.nameworld.pojo.NameworldDocument.Nameworld.Island[islandCount];
+                java.lang.System.arraycopy(islandArray, 0, result._island, 0, islandCount);
+            }
+            else
+                result._island = islandArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._island != null)
+            {
+                for (int i = 0; i < this._island.length; i++)
+                {
+                    if (this._island[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/nameworld", "island", ns);
+                        this._island[i].write(writer, "http://openuri.org/nameworld");
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+        
+        /**
+         * An anonymous inner XML type.
+         *
+         * This is a plain Java binding of org.openuri.nameworld.NameworldDocument.Nameworld.Island.
+         */
+        public static class Island
+        {
+            private java.lang.String _targetNamespace;
+            private org.openuri.nameworld.pojo.Loc[] _location;
+            
+            /**
+             * Gets the "targetNamespace" attribute
+             */
+            public java.lang.String getTargetNamespace()
+            {
+                return _targetNamespace;
+            }
+            
+            /**
+             * Sets the "targetNamespace" attribute
+             */
+            public void setTargetNamespace(java.lang.String targetNamespace)
+            {
+                this._targetNamespace = targetNamespace;
+            }
+            
+            /**
+             * Gets array of all "location" elements
+             */
+            public org.openuri.nameworld.pojo.Loc[] getLocationArray()
+            {
+                return _location;
+            }
+            
+            /**
+             * Sets array of all "location" elements
+             */
+            public void setLocationArray(org.openuri.nameworld.pojo.Loc[] location)
+            {
+                this._location = location;
+            }
+            
+            /**
+             * Reads an instance from the element the reader is on, and leaves
+             * the reader on the end of that element.
+             */
+            public static Island read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+                throws javax.xml.stream.XMLStreamException
+            {
+                Island result = new Island();
+                org.openuri.nameworld.pojo.Loc[] locationArray = new org.openuri.nameworld.pojo.Loc[0]; int locationCount = 0;
+                
+                for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+                {
+                    java.lang.String local = reader.getAttributeLocalName(i);
+                    java.lang.String uri = reader.getAttributeNamespace(i);
+                    if (uri == null)
+                        uri = "";
+                    if ("targetNamespace".equals(local) && "".equals(uri))
+                        result._targetNamespace = reader.getAttributeStringValue(i);
+                }
+                
+                for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+                {
+                    if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                        continue;
+                    java.lang.String local = reader.getLocalName();
+                    java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                    if ("location".equals(local) && "http://openuri.org/nameworld".equals(uri))
+                    {
+                        if (locationCount == locationArray.length)
+                        {
+                            org.openuri.nameworld.pojo.Loc[] grown = new org.openuri.nameworld.pojo.Loc[locationCount * 2 + 4];
+                            java.lang.System.arraycopy(locationArray, 0, grown, 0, locationCount);
+                            locationArray = grown;
+                        }
+                        locationArray[locationCount++] = org.openuri.nameworld.pojo.Loc.read(reader);
+                    }
+                    else
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+                }
+                
+                if (locationCount != locationArray.length)
+                {
+                    result._location = new org.openuri.nameworld.pojo.Loc[locationCount];
+                    java.lang.System.arraycopy(locationArray, 0, result._location, 0, locationCount);
+                }
+                else
+                    result._location = locationArray;
+                return result;
+            }
+            
+            /**
+             * Writes the attributes and the content of this object into the
+             * element the writer has just started, in whose scope ns is the
+             * default namespace.
+             */
+            public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+                throws javax.xml.stream.XMLStreamException
+            {
+                if (this._targetNamespace != null)
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "targetNamespace", this._targetNamespace);
+                if (this._location != null)
+                {
+                    for (int i = 0; i < this._location.length; i++)
+                    {
+                        if (this._location[i] != null)
+                        {
+                            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/nameworld", "location", ns);
+                            this._location[i].write(writer, "http://openuri.org/nameworld");
+                            writer.writeEndElement();
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
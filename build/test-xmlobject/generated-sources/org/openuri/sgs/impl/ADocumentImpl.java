@@ -0,0 +1,114 @@
+/*
+ * An XML document type.
+ * Localname: A
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.ADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one A(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class ADocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.ADocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ADocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName A$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "A");
+    private static final org.apache.xmlbeans.QNameSet A$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "C"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "B"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "A"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 65:
+                if (name.equals(A$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "A" element
+     */
+    public java.lang.String getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "A" element
+     */
+    public org.apache.xmlbeans.XmlString xgetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "A" element
+     */
+    public void setA(java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$0);
+            }
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "A" element
+     */
+    public void xsetA(org.apache.xmlbeans.XmlString a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$0);
+            }
+            target.set(a);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * An XML document type.
+ * Localname: abstractTest
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AbstractTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one abstractTest(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AbstractTestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AbstractTestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AbstractTestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ABSTRACTTEST$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "abstractTest");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -757545004:
+                if (name.equals(ABSTRACTTEST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "abstractTest" element
+     */
+    public org.openuri.sgs.AbstractTestDocument.AbstractTest getAbstractTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AbstractTestDocument.AbstractTest target = null;
+            target = (org.openuri.sgs.AbstractTestDocument.AbstractTest)get_store().find_element_user(ABSTRACTTEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "abstractTest" element
+     */
+    public void setAbstractTest(org.openuri.sgs.AbstractTestDocument.AbstractTest abstractTest)
+    {
+        generatedSetterHelperImpl(abstractTest, ABSTRACTTEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "abstractTest" element
+     */
+    public org.openuri.sgs.AbstractTestDocument.AbstractTest addNewAbstractTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AbstractTestDocument.AbstractTest target = null;
+            target = (org.openuri.sgs.AbstractTestDocument.AbstractTest)get_store().add_element_user(ABSTRACTTEST$0);
+            return target;
+        }
+    }
+    /**
+     * An XML abstractTest(@http://openuri.org/sgs).
+     *
+     * This is a complex type.
+     */
+    public static class AbstractTestImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AbstractTestDocument.AbstractTest
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AbstractTestImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ABSTRACT$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "abstract");
+        private static final org.apache.xmlbeans.QNameSet ABSTRACT$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "abstract"),
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "concrete"),
+        });
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 1732898850:
+                    if (name.equals(ABSTRACT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "abstract" element
+         */
+        public java.lang.String getAbstract()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ABSTRACT$1, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "abstract" element
+         */
+        public org.apache.xmlbeans.XmlString xgetAbstract()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ABSTRACT$1, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "abstract" element
+         */
+        public void setAbstract(java.lang.String xabstract)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ABSTRACT$1, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ABSTRACT$0);
+                }
+                target.setStringValue(xabstract);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "abstract" element
+         */
+        public void xsetAbstract(org.apache.xmlbeans.XmlString xabstract)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ABSTRACT$1, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ABSTRACT$0);
+                }
+                target.set(xabstract);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * An XML document type.
+ * Localname: AnonComplex
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnonComplexDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnonComplex(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnonComplexDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AnonComplexDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnonComplexDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANONCOMPLEX$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonComplex");
+    private static final org.apache.xmlbeans.QNameSet ANONCOMPLEX$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonComplexTail"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonComplex"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1307403300:
+                if (name.equals(ANONCOMPLEX$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnonComplex" element
+     */
+    public org.openuri.sgs.AnonComplexDocument.AnonComplex getAnonComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonComplexDocument.AnonComplex target = null;
+            target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().find_element_user(ANONCOMPLEX$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnonComplex" element
+     */
+    public void setAnonComplex(org.openuri.sgs.AnonComplexDocument.AnonComplex anonComplex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonComplexDocument.AnonComplex target = null;
+            target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().find_element_user(ANONCOMPLEX$1, 0);
+            if (target == null)
+            {
+                target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().add_element_user(ANONCOMPLEX$0);
+            }
+            target.set(anonComplex);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "AnonComplex" element
+     */
+    public org.openuri.sgs.AnonComplexDocument.AnonComplex addNewAnonComplex()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonComplexDocument.AnonComplex target = null;
+            target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().add_element_user(ANONCOMPLEX$0);
+            return target;
+        }
+    }
+    /**
+     * An XML AnonComplex(@http://openuri.org/sgs).
+     *
+     * This is a complex type.
+     */
+    public static class AnonComplexImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AnonComplexDocument.AnonComplex
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AnonComplexImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName FOO$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "foo");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 101574:
+                    if (name.equals(FOO$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "foo" element
+         */
+        public int getFoo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(FOO$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOO$0, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "foo" element
+         */
+        public org.apache.xmlbeans.XmlInt xgetFoo()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(FOO$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "foo" element
+         */
+        public void setFoo(int foo)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOO$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FOO$0);
+                }
+                target.setIntValue(foo);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "foo" element
+         */
+        public void xsetFoo(org.apache.xmlbeans.XmlInt foo)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(FOO$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(FOO$0);
+                }
+                target.set(foo);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnonComplexTail
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnonComplexTailDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnonComplexTail(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnonComplexTailDocumentImpl extends org.openuri.sgs.impl.AnonComplexDocumentImpl implements org.openuri.sgs.AnonComplexTailDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnonComplexTailDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANONCOMPLEXTAIL$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonComplexTail");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 314464916:
+                if (name.equals(ANONCOMPLEXTAIL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnonComplexTail" element
+     */
+    public org.openuri.sgs.AnonComplexDocument.AnonComplex getAnonComplexTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonComplexDocument.AnonComplex target = null;
+            target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().find_element_user(ANONCOMPLEXTAIL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnonComplexTail" element
+     */
+    public void setAnonComplexTail(org.openuri.sgs.AnonComplexDocument.AnonComplex anonComplexTail)
+    {
+        generatedSetterHelperImpl(anonComplexTail, ANONCOMPLEXTAIL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnonComplexTail" element
+     */
+    public org.openuri.sgs.AnonComplexDocument.AnonComplex addNewAnonComplexTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonComplexDocument.AnonComplex target = null;
+            target = (org.openuri.sgs.AnonComplexDocument.AnonComplex)get_store().add_element_user(ANONCOMPLEXTAIL$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * An XML document type.
+ * Localname: AnonSimple
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnonSimpleDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnonSimple(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnonSimpleDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AnonSimpleDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnonSimpleDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANONSIMPLE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonSimple");
+    private static final org.apache.xmlbeans.QNameSet ANONSIMPLE$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonSimpleTail"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonSimple"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 356152254:
+                if (name.equals(ANONSIMPLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnonSimple" element
+     */
+    public int getAnonSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANONSIMPLE$1, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "AnonSimple" element
+     */
+    public org.openuri.sgs.AnonSimpleDocument.AnonSimple xgetAnonSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonSimpleDocument.AnonSimple target = null;
+            target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().find_element_user(ANONSIMPLE$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnonSimple" element
+     */
+    public void setAnonSimple(int anonSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANONSIMPLE$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ANONSIMPLE$0);
+            }
+            target.setIntValue(anonSimple);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "AnonSimple" element
+     */
+    public void xsetAnonSimple(org.openuri.sgs.AnonSimpleDocument.AnonSimple anonSimple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonSimpleDocument.AnonSimple target = null;
+            target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().find_element_user(ANONSIMPLE$1, 0);
+            if (target == null)
+            {
+                target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().add_element_user(ANONSIMPLE$0);
+            }
+            target.set(anonSimple);
+        }
+    }
+    /**
+     * An XML AnonSimple(@http://openuri.org/sgs).
+     *
+     * This is an atomic type that is a restriction of org.openuri.sgs.AnonSimpleDocument$AnonSimple.
+     */
+    public static class AnonSimpleImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements org.openuri.sgs.AnonSimpleDocument.AnonSimple
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public AnonSimpleImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected AnonSimpleImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * An XML document type.
+ * Localname: AnonSimpleTail
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnonSimpleTailDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnonSimpleTail(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnonSimpleTailDocumentImpl extends org.openuri.sgs.impl.AnonSimpleDocumentImpl implements org.openuri.sgs.AnonSimpleTailDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnonSimpleTailDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANONSIMPLETAIL$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnonSimpleTail");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1197870382:
+                if (name.equals(ANONSIMPLETAIL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnonSimpleTail" element
+     */
+    public int getAnonSimpleTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(ANONSIMPLETAIL$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANONSIMPLETAIL$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "AnonSimpleTail" element
+     */
+    public org.openuri.sgs.AnonSimpleDocument.AnonSimple xgetAnonSimpleTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonSimpleDocument.AnonSimple target = null;
+            target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().find_element_user(ANONSIMPLETAIL$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnonSimpleTail" element
+     */
+    public void setAnonSimpleTail(int anonSimpleTail)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ANONSIMPLETAIL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ANONSIMPLETAIL$0);
+            }
+            target.setIntValue(anonSimpleTail);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "AnonSimpleTail" element
+     */
+    public void xsetAnonSimpleTail(org.openuri.sgs.AnonSimpleDocument.AnonSimple anonSimpleTail)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.AnonSimpleDocument.AnonSimple target = null;
+            target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().find_element_user(ANONSIMPLETAIL$0, 0);
+            if (target == null)
+            {
+                target = (org.openuri.sgs.AnonSimpleDocument.AnonSimple)get_store().add_element_user(ANONSIMPLETAIL$0);
+            }
+            target.set(anonSimpleTail);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: AnyType
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnyTypeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnyType(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnyTypeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.AnyTypeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyTypeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYTYPE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnyType");
+    private static final org.apache.xmlbeans.QNameSet ANYTYPE$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnyType"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnyTypeTail"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 821772070:
+                if (name.equals(ANYTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyType" element
+     */
+    public org.apache.xmlbeans.XmlObject getAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(ANYTYPE$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyType" element
+     */
+    public void setAnyType(org.apache.xmlbeans.XmlObject anyType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(ANYTYPE$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(ANYTYPE$0);
+            }
+            target.set(anyType);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyType" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewAnyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(ANYTYPE$0);
+            return target;
+        }
+    }
+}
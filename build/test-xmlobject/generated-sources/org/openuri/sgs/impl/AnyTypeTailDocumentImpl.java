@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: AnyTypeTail
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.AnyTypeTailDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one AnyTypeTail(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class AnyTypeTailDocumentImpl extends org.openuri.sgs.impl.AnyTypeDocumentImpl implements org.openuri.sgs.AnyTypeTailDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AnyTypeTailDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ANYTYPETAIL$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "AnyTypeTail");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1249713002:
+                if (name.equals(ANYTYPETAIL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "AnyTypeTail" element
+     */
+    public org.apache.xmlbeans.XmlObject getAnyTypeTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(ANYTYPETAIL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "AnyTypeTail" element
+     */
+    public void setAnyTypeTail(org.apache.xmlbeans.XmlObject anyTypeTail)
+    {
+        generatedSetterHelperImpl(anyTypeTail, ANYTYPETAIL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "AnyTypeTail" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewAnyTypeTail()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(ANYTYPETAIL$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * An XML document type.
+ * Localname: B
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.BDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one B(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class BDocumentImpl extends org.openuri.sgs.impl.ADocumentImpl implements org.openuri.sgs.BDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName B$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "B");
+    private static final org.apache.xmlbeans.QNameSet B$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "C"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "B"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 66:
+                if (name.equals(B$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "B" element
+     */
+    public java.lang.String getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "B" element
+     */
+    public org.apache.xmlbeans.XmlNormalizedString xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNormalizedString target = null;
+            target = (org.apache.xmlbeans.XmlNormalizedString)get_store().find_element_user(B$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "B" element
+     */
+    public void setB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(B$0);
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "B" element
+     */
+    public void xsetB(org.apache.xmlbeans.XmlNormalizedString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNormalizedString target = null;
+            target = (org.apache.xmlbeans.XmlNormalizedString)get_store().find_element_user(B$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNormalizedString)get_store().add_element_user(B$0);
+            }
+            target.set(b);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  Base
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.Base
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * An XML Base(@http://openuri.org/sgs).
+ *
+ * This is a complex type.
+ */
+public class BaseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.Base
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BaseImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STR$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "str");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 114225:
+                if (name.equals(STR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "str" element
+     */
+    public java.lang.String getStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "str" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "str" element
+     */
+    public void setStr(java.lang.String str)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STR$0);
+            }
+            target.setStringValue(str);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "str" element
+     */
+    public void xsetStr(org.apache.xmlbeans.XmlString str)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STR$0);
+            }
+            target.set(str);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * An XML document type.
+ * Localname: block
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.BlockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one block(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class BlockDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.BlockDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCK$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "block");
+    private static final org.apache.xmlbeans.QNameSet BLOCK$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "subblock"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "block"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 93832333:
+                if (name.equals(BLOCK$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "block" element
+     */
+    public java.lang.String getBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCK$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "block" element
+     */
+    public org.apache.xmlbeans.XmlString xgetBlock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCK$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "block" element
+     */
+    public void setBlock(java.lang.String block)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCK$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BLOCK$0);
+            }
+            target.setStringValue(block);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "block" element
+     */
+    public void xsetBlock(org.apache.xmlbeans.XmlString block)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCK$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(BLOCK$0);
+            }
+            target.set(block);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: C
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.CDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one C(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class CDocumentImpl extends org.openuri.sgs.impl.BDocumentImpl implements org.openuri.sgs.CDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName C$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "C");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 67:
+                if (name.equals(C$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "C" element
+     */
+    public java.lang.String getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "C" element
+     */
+    public org.apache.xmlbeans.XmlToken xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(C$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "C" element
+     */
+    public void setC(java.lang.String c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(C$0);
+            }
+            target.setStringValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "C" element
+     */
+    public void xsetC(org.apache.xmlbeans.XmlToken c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_element_user(C$0);
+            }
+            target.set(c);
+        }
+    }
+}
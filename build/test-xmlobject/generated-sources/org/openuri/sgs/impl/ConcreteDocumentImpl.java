@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: concrete
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.ConcreteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one concrete(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class ConcreteDocumentImpl extends org.openuri.sgs.impl.AbstractDocumentImpl implements org.openuri.sgs.ConcreteDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConcreteDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONCRETE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "concrete");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -582643067:
+                if (name.equals(CONCRETE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "concrete" element
+     */
+    public java.lang.String getConcrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONCRETE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "concrete" element
+     */
+    public org.apache.xmlbeans.XmlString xgetConcrete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CONCRETE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "concrete" element
+     */
+    public void setConcrete(java.lang.String concrete)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONCRETE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONCRETE$0);
+            }
+            target.setStringValue(concrete);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "concrete" element
+     */
+    public void xsetConcrete(org.apache.xmlbeans.XmlString concrete)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CONCRETE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CONCRETE$0);
+            }
+            target.set(concrete);
+        }
+    }
+}
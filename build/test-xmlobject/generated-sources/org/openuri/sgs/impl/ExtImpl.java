@@ -0,0 +1,120 @@
+/*
+ * XML Type:  Ext
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.Ext
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * An XML Ext(@http://openuri.org/sgs).
+ *
+ * This is a complex type.
+ */
+public class ExtImpl extends org.openuri.sgs.impl.BaseImpl implements org.openuri.sgs.Ext
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ExtImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName INT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "int");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 104431:
+                if (name.equals(INT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "int" element
+     */
+    public int getInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(INT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "int" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "int" element
+     */
+    public void setInt(int xint)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INT$0);
+            }
+            target.setIntValue(xint);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "int" element
+     */
+    public void xsetInt(org.apache.xmlbeans.XmlInt xint)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(INT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(INT$0);
+            }
+            target.set(xint);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * An XML document type.
+ * Localname: root
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one root(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "root");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3506402:
+                if (name.equals(ROOT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "root" element
+     */
+    public org.openuri.sgs.RootDocument.Root getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.RootDocument.Root target = null;
+            target = (org.openuri.sgs.RootDocument.Root)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "root" element
+     */
+    public void setRoot(org.openuri.sgs.RootDocument.Root root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "root" element
+     */
+    public org.openuri.sgs.RootDocument.Root addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.RootDocument.Root target = null;
+            target = (org.openuri.sgs.RootDocument.Root)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML root(@http://openuri.org/sgs).
+     *
+     * This is a complex type.
+     */
+    public static class RootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.RootDocument.Root
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName A$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "A");
+        private static final org.apache.xmlbeans.QNameSet A$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "C"),
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "B"),
+            new javax.xml.namespace.QName("http://openuri.org/sgs", "A"),
+        });
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(1);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 65:
+                    if (name.equals(A$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets array of all "A" elements
+         */
+        public java.lang.String[] getAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(A$1, targetList);
+                java.lang.String[] result = new java.lang.String[targetList.size()];
+                for (int i = 0, len = targetList.size() ; i < len ; i++)
+                    result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "A" element
+         */
+        public java.lang.String getAArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) array of all "A" elements
+         */
+        public org.apache.xmlbeans.XmlString[] xgetAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(A$1, targetList);
+                org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets (as xml) ith "A" element
+         */
+        public org.apache.xmlbeans.XmlString xgetAArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "A" element
+         */
+        public int sizeOfAArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(A$1);
+            }
+        }
+        
+        /**
+         * Sets array of all "A" element
+         */
+        public void setAArray(java.lang.String[] aArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(aArray, A$0, A$1);
+            }
+        }
+        
+        /**
+         * Sets ith "A" element
+         */
+        public void setAArray(int i, java.lang.String a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.setStringValue(a);
+            }
+        }
+        
+        /**
+         * Sets (as xml) array of all "A" element
+         */
+        public void xsetAArray(org.apache.xmlbeans.XmlString[]aArray)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                arraySetterHelper(aArray, A$0);
+            }
+        }
+        
+        /**
+         * Sets (as xml) ith "A" element
+         */
+        public void xsetAArray(int i, org.apache.xmlbeans.XmlString a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$1, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                target.set(a);
+            }
+        }
+        
+        /**
+         * Inserts the value as the ith "A" element
+         */
+        public void insertA(int i, java.lang.String a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = 
+                    (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(A$1, A$0, i);
+                target.setStringValue(a);
+            }
+        }
+        
+        /**
+         * Appends the value as the last "A" element
+         */
+        public void addA(java.lang.String a)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$0);
+                target.setStringValue(a);
+            }
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "A" element
+         */
+        public org.apache.xmlbeans.XmlString insertNewA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(A$1, A$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "A" element
+         */
+        public org.apache.xmlbeans.XmlString addNewA()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "A" element
+         */
+        public void removeA(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(A$1, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: subblock
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.SubblockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one subblock(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class SubblockDocumentImpl extends org.openuri.sgs.impl.BlockDocumentImpl implements org.openuri.sgs.SubblockDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SubblockDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SUBBLOCK$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "subblock");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2077036979:
+                if (name.equals(SUBBLOCK$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "subblock" element
+     */
+    public java.lang.String getSubblock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBBLOCK$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "subblock" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSubblock()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBBLOCK$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "subblock" element
+     */
+    public void setSubblock(java.lang.String subblock)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SUBBLOCK$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SUBBLOCK$0);
+            }
+            target.setStringValue(subblock);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "subblock" element
+     */
+    public void xsetSubblock(org.apache.xmlbeans.XmlString subblock)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SUBBLOCK$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SUBBLOCK$0);
+            }
+            target.set(subblock);
+        }
+    }
+}
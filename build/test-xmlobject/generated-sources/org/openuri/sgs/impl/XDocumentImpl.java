@@ -0,0 +1,96 @@
+/*
+ * An XML document type.
+ * Localname: X
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.XDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one X(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class XDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.sgs.XDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public XDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName X$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "X");
+    private static final org.apache.xmlbeans.QNameSet X$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Z"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Y"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "X"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 88:
+                if (name.equals(X$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "X" element
+     */
+    public org.openuri.sgs.Base getX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().find_element_user(X$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "X" element
+     */
+    public void setX(org.openuri.sgs.Base x)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().find_element_user(X$1, 0);
+            if (target == null)
+            {
+                target = (org.openuri.sgs.Base)get_store().add_element_user(X$0);
+            }
+            target.set(x);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "X" element
+     */
+    public org.openuri.sgs.Base addNewX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().add_element_user(X$0);
+            return target;
+        }
+    }
+}
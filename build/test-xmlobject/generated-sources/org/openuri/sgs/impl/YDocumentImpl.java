@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: Y
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.YDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one Y(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class YDocumentImpl extends org.openuri.sgs.impl.XDocumentImpl implements org.openuri.sgs.YDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public YDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName Y$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Y");
+    private static final org.apache.xmlbeans.QNameSet Y$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Z"),
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Y"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 89:
+                if (name.equals(Y$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Y" element
+     */
+    public org.openuri.sgs.Base getY()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().find_element_user(Y$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Y" element
+     */
+    public void setY(org.openuri.sgs.Base y)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().find_element_user(Y$1, 0);
+            if (target == null)
+            {
+                target = (org.openuri.sgs.Base)get_store().add_element_user(Y$0);
+            }
+            target.set(y);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "Y" element
+     */
+    public org.openuri.sgs.Base addNewY()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Base target = null;
+            target = (org.openuri.sgs.Base)get_store().add_element_user(Y$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Z
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.ZDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.impl;
+/**
+ * A document containing one Z(@http://openuri.org/sgs) element.
+ *
+ * This is a complex type.
+ */
+public class ZDocumentImpl extends org.openuri.sgs.impl.YDocumentImpl implements org.openuri.sgs.ZDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ZDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName Z$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/sgs", "Z");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 90:
+                if (name.equals(Z$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Z" element
+     */
+    public org.openuri.sgs.Ext getZ()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Ext target = null;
+            target = (org.openuri.sgs.Ext)get_store().find_element_user(Z$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Z" element
+     */
+    public void setZ(org.openuri.sgs.Ext z)
+    {
+        generatedSetterHelperImpl(z, Z$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Z" element
+     */
+    public org.openuri.sgs.Ext addNewZ()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.sgs.Ext target = null;
+            target = (org.openuri.sgs.Ext)get_store().add_element_user(Z$0);
+            return target;
+        }
+    }
+}
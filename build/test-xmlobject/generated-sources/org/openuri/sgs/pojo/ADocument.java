@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: A
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.ADocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one A(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.ADocument.
+ */
+public class ADocument
+{
+    private java.lang.String _a;
+    
+    /**
+     * Gets the "A" element
+     */
+    public java.lang.String getA()
+    {
+        return _a;
+    }
+    
+    /**
+     * Sets the "A" element
+     */
+    public void setA(java.lang.String a)
+    {
+        this._a = a;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be A(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static ADocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ADocument result = new ADocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "A");
+        {
+            result._a = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ADocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ADocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ADocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._a != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "A", ns);
+            writer.writeCharacters(this._a);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: abstract
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AbstractDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one abstract(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AbstractDocument.
+ */
+public class AbstractDocument
+{
+    private java.lang.String _abstract;
+    
+    /**
+     * Gets the "abstract" element
+     */
+    public java.lang.String getAbstract()
+    {
+        return _abstract;
+    }
+    
+    /**
+     * Sets the "abstract" element
+     */
+    public void setAbstract(java.lang.String xabstract)
+    {
+        this._abstract = xabstract;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be abstract(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AbstractDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AbstractDocument result = new AbstractDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "abstract");
+        {
+            result._abstract = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AbstractDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AbstractDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AbstractDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._abstract != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "abstract", ns);
+            writer.writeCharacters(this._abstract);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * An XML document type.
+ * Localname: abstractTest
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AbstractTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one abstractTest(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AbstractTestDocument.
+ */
+public class AbstractTestDocument
+{
+    private org.openuri.sgs.pojo.AbstractTestDocument.AbstractTest _abstractTest;
+    
+    /**
+     * Gets the "abstractTest" element
+     */
+    public org.openuri.sgs.pojo.AbstractTestDocument.AbstractTest getAbstractTest()
+    {
+        return _abstractTest;
+    }
+    
+    /**
+     * Sets the "abstractTest" element
+     */
+    public void setAbstractTest(org.openuri.sgs.pojo.AbstractTestDocument.AbstractTest abstractTest)
+    {
+        this._abstractTest = abstractTest;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be abstractTest(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AbstractTestDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AbstractTestDocument result = new AbstractTestDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "abstractTest");
+        {
+            result._abstractTest = org.openuri.sgs.pojo.AbstractTestDocument.AbstractTest.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AbstractTestDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AbstractTestDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AbstractTestDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._abstractTest != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "abstractTest", ns);
+            this._abstractTest.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.sgs.AbstractTestDocument.AbstractTest.
+     */
+    public static class AbstractTest
+    {
+        private java.lang.String _abstract;
+        
+        /**
+         * Gets the "abstract" element
+         */
+        public java.lang.String getAbstract()
+        {
+            return _abstract;
+        }
+        
+        /**
+         * Sets the "abstract" element
+         */
+        public void setAbstract(java.lang.String xabstract)
+        {
+            this._abstract = xabstract;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static AbstractTest read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            AbstractTest result = new AbstractTest();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if (("abstract".equals(local) && "http://openuri.org/sgs".equals(uri)) || ("concrete".equals(local) && "http://openuri.org/sgs".equals(uri)))
+                {
+                    result._abstract = reader.getStringValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._abstract != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "abstract", ns);
+                writer.writeCharacters(this._abstract);
+                writer.writeEndElement();
+            }
+        }
+    }
+}
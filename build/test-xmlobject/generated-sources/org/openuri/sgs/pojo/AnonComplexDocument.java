@@ -0,0 +1,183 @@
+/*
+ * An XML document type.
+ * Localname: AnonComplex
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AnonComplexDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one AnonComplex(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AnonComplexDocument.
+ */
+public class AnonComplexDocument
+{
+    private org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex _anonComplex;
+    
+    /**
+     * Gets the "AnonComplex" element
+     */
+    public org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex getAnonComplex()
+    {
+        return _anonComplex;
+    }
+    
+    /**
+     * Sets the "AnonComplex" element
+     */
+    public void setAnonComplex(org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex anonComplex)
+    {
+        this._anonComplex = anonComplex;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be AnonComplex(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AnonComplexDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AnonComplexDocument result = new AnonComplexDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "AnonComplex");
+        {
+            result._anonComplex = org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AnonComplexDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AnonComplexDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AnonComplexDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._anonComplex != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "AnonComplex", ns);
+            this._anonComplex.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.sgs.AnonComplexDocument.AnonComplex.
+     */
+    public static class AnonComplex
+    {
+        private int _foo;
+        
+        /**
+         * Gets the "foo" element
+         */
+        public int getFoo()
+        {
+            return _foo;
+        }
+        
+        /**
+         * Sets the "foo" element
+         */
+        public void setFoo(int foo)
+        {
+            this._foo = foo;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static AnonComplex read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            AnonComplex result = new AnonComplex();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("foo".equals(local) && "http://openuri.org/sgs".equals(uri))
+                {
+                    result._foo = reader.getIntValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "foo", ns);
+                writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._foo));
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: AnonComplexTail
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AnonComplexTailDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one AnonComplexTail(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AnonComplexTailDocument.
+ */
+public class AnonComplexTailDocument
+{
+    private org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex _anonComplexTail;
+    
+    /**
+     * Gets the "AnonComplexTail" element
+     */
+    public org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex getAnonComplexTail()
+    {
+        return _anonComplexTail;
+    }
+    
+    /**
+     * Sets the "AnonComplexTail" element
+     */
+    public void setAnonComplexTail(org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex anonComplexTail)
+    {
+        this._anonComplexTail = anonComplexTail;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be AnonComplexTail(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AnonComplexTailDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AnonComplexTailDocument result = new AnonComplexTailDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "AnonComplexTail");
+        {
+            result._anonComplexTail = org.openuri.sgs.pojo.AnonComplexDocument.AnonComplex.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AnonComplexTailDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AnonComplexTailDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AnonComplexTailDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._anonComplexTail != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "AnonComplexTail", ns);
+            this._anonComplexTail.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * An XML document type.
+ * Localname: AnonSimple
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AnonSimpleDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one AnonSimple(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AnonSimpleDocument.
+ */
+public class AnonSimpleDocument
+{
+    private int _anonSimple;
+    
+    /**
+     * Gets the "AnonSimple" element
+     */
+    public int getAnonSimple()
+    {
+        return _anonSimple;
+    }
+    
+    /**
+     * Sets the "AnonSimple" element
+     */
+    public void setAnonSimple(int anonSimple)
+    {
+        this._anonSimple = anonSimple;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be AnonSimple(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AnonSimpleDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AnonSimpleDocument result = new AnonSimpleDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "AnonSimple");
+        {
+            result._anonSimple = reader.getIntValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AnonSimpleDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AnonSimpleDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AnonSimpleDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "AnonSimple", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._anonSimple));
+            writer.writeEndElement();
+        }
+    }
+}
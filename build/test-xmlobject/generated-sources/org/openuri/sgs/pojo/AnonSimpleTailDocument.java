@@ -0,0 +1,116 @@
+/*
+ * An XML document type.
+ * Localname: AnonSimpleTail
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.AnonSimpleTailDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one AnonSimpleTail(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.AnonSimpleTailDocument.
+ */
+public class AnonSimpleTailDocument
+{
+    private int _anonSimpleTail;
+    
+    /**
+     * Gets the "AnonSimpleTail" element
+     */
+    public int getAnonSimpleTail()
+    {
+        return _anonSimpleTail;
+    }
+    
+    /**
+     * Sets the "AnonSimpleTail" element
+     */
+    public void setAnonSimpleTail(int anonSimpleTail)
+    {
+        this._anonSimpleTail = anonSimpleTail;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be AnonSimpleTail(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static AnonSimpleTailDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        AnonSimpleTailDocument result = new AnonSimpleTailDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "AnonSimpleTail");
+        {
+            result._anonSimpleTail = reader.getIntValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static AnonSimpleTailDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static AnonSimpleTailDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static AnonSimpleTailDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "AnonSimpleTail", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._anonSimpleTail));
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: B
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.BDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one B(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.BDocument.
+ */
+public class BDocument
+{
+    private java.lang.String _b;
+    
+    /**
+     * Gets the "B" element
+     */
+    public java.lang.String getB()
+    {
+        return _b;
+    }
+    
+    /**
+     * Sets the "B" element
+     */
+    public void setB(java.lang.String b)
+    {
+        this._b = b;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be B(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static BDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BDocument result = new BDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "B");
+        {
+            result._b = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_REPLACE);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._b != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "B", ns);
+            writer.writeCharacters(this._b);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: block
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.BlockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one block(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.BlockDocument.
+ */
+public class BlockDocument
+{
+    private java.lang.String _block;
+    
+    /**
+     * Gets the "block" element
+     */
+    public java.lang.String getBlock()
+    {
+        return _block;
+    }
+    
+    /**
+     * Sets the "block" element
+     */
+    public void setBlock(java.lang.String block)
+    {
+        this._block = block;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be block(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockDocument result = new BlockDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "block");
+        {
+            result._block = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._block != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "block", ns);
+            writer.writeCharacters(this._block);
+            writer.writeEndElement();
+        }
+    }
+}
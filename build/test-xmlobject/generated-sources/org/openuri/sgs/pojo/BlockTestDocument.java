@@ -0,0 +1,184 @@
+/*
+ * An XML document type.
+ * Localname: blockTest
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.BlockTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one blockTest(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.BlockTestDocument.
+ */
+public class BlockTestDocument
+{
+    private org.openuri.sgs.pojo.BlockTestDocument.BlockTest _blockTest;
+    
+    /**
+     * Gets the "blockTest" element
+     */
+    public org.openuri.sgs.pojo.BlockTestDocument.BlockTest getBlockTest()
+    {
+        return _blockTest;
+    }
+    
+    /**
+     * Sets the "blockTest" element
+     */
+    public void setBlockTest(org.openuri.sgs.pojo.BlockTestDocument.BlockTest blockTest)
+    {
+        this._blockTest = blockTest;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockTest(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockTestDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockTestDocument result = new BlockTestDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "blockTest");
+        {
+            result._blockTest = org.openuri.sgs.pojo.BlockTestDocument.BlockTest.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockTestDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockTestDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockTestDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockTest != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "blockTest", ns);
+            this._blockTest.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.sgs.BlockTestDocument.BlockTest.
+     */
+    public static class BlockTest
+    {
+        private java.lang.String _block;
+        
+        /**
+         * Gets the "block" element
+         */
+        public java.lang.String getBlock()
+        {
+            return _block;
+        }
+        
+        /**
+         * Sets the "block" element
+         */
+        public void setBlock(java.lang.String block)
+        {
+            this._block = block;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static BlockTest read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            BlockTest result = new BlockTest();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if (("subblock".equals(local) && "http://openuri.org/sgs".equals(uri)) || ("block".equals(local) && "http://openuri.org/sgs".equals(uri)))
+                {
+                    result._block = reader.getStringValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._block != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "block", ns);
+                writer.writeCharacters(this._block);
+                writer.writeEndElement();
+            }
+        }
+    }
+}
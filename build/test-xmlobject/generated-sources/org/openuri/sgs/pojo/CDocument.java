@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: C
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.CDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one C(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.CDocument.
+ */
+public class CDocument
+{
+    private java.lang.String _c;
+    
+    /**
+     * Gets the "C" element
+     */
+    public java.lang.String getC()
+    {
+        return _c;
+    }
+    
+    /**
+     * Sets the "C" element
+     */
+    public void setC(java.lang.String c)
+    {
+        this._c = c;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be C(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static CDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CDocument result = new CDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "C");
+        {
+            result._c = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static CDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static CDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static CDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._c != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "C", ns);
+            writer.writeCharacters(this._c);
+            writer.writeEndElement();
+        }
+    }
+}
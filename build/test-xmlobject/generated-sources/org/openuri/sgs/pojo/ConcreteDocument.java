@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: concrete
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.ConcreteDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one concrete(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.ConcreteDocument.
+ */
+public class ConcreteDocument
+{
+    private java.lang.String _concrete;
+    
+    /**
+     * Gets the "concrete" element
+     */
+    public java.lang.String getConcrete()
+    {
+        return _concrete;
+    }
+    
+    /**
+     * Sets the "concrete" element
+     */
+    public void setConcrete(java.lang.String concrete)
+    {
+        this._concrete = concrete;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be concrete(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static ConcreteDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ConcreteDocument result = new ConcreteDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "concrete");
+        {
+            result._concrete = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ConcreteDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ConcreteDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ConcreteDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._concrete != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "concrete", ns);
+            writer.writeCharacters(this._concrete);
+            writer.writeEndElement();
+        }
+    }
+}
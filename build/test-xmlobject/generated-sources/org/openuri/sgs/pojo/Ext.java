@@ -0,0 +1,101 @@
+/*
+ * XML Type:  Ext
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.Ext
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * An XML Ext(@http://openuri.org/sgs).
+ *
+ * This is a plain Java binding of org.openuri.sgs.Ext.
+ */
+public class Ext
+{
+    private java.lang.String _str;
+    private int _int;
+    
+    /**
+     * Gets the "str" element
+     */
+    public java.lang.String getStr()
+    {
+        return _str;
+    }
+    
+    /**
+     * Sets the "str" element
+     */
+    public void setStr(java.lang.String str)
+    {
+        this._str = str;
+    }
+    
+    /**
+     * Gets the "int" element
+     */
+    public int getInt()
+    {
+        return _int;
+    }
+    
+    /**
+     * Sets the "int" element
+     */
+    public void setInt(int xint)
+    {
+        this._int = xint;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Ext read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Ext result = new Ext();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("str".equals(local) && "http://openuri.org/sgs".equals(uri))
+            {
+                result._str = reader.getStringValue();
+            }
+            else if ("int".equals(local) && "http://openuri.org/sgs".equals(uri))
+            {
+                result._int = reader.getIntValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._str != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "str", ns);
+            writer.writeCharacters(this._str);
+            writer.writeEndElement();
+        }
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "int", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._int));
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * An XML document type.
+ * Localname: root
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one root(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.RootDocument.
+ */
+public class RootDocument
+{
+    private org.openuri.sgs.pojo.RootDocument.Root _root;
+    
+    /**
+     * Gets the "root" element
+     */
+    public org.openuri.sgs.pojo.RootDocument.Root getRoot()
+    {
+        return _root;
+    }
+    
+    /**
+     * Sets the "root" element
+     */
+    public void setRoot(org.openuri.sgs.pojo.RootDocument.Root root)
+    {
+        this._root = root;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be root(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static RootDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        RootDocument result = new RootDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "root");
+        {
+            result._root = org.openuri.sgs.pojo.RootDocument.Root.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static RootDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static RootDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static RootDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._root != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "root", ns);
+            this._root.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.sgs.RootDocument.Root.
+     */
+    public static class Root
+    {
+        private java.lang.String[] _a;
+        
+        /**
+         * Gets array of all "A" elements
+         */
+        public java.lang.String[] getAArray()
+        {
+            return _a;
+        }
+        
+        /**
+         * Sets array of all "A" elements
+         */
+        public void setAArray(java.lang.String[] a)
+        {
+            this._a = a;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Root read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Root result = new Root();
+            java.lang.String[] aArray = new java.lang.String[0]; int aCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if (("C".equals(local) && "http://openuri.org/sgs".equals(uri)) || ("B".equals(local) && "http://openuri.org/sgs".equals(uri)) || ("A".equals(local) && "http://openuri.org/sgs".equals(uri)))
+                {
+                    if (aCount == aArray.length)
+                    {
+                        java.lang.String[] grown = new java.lang.String[aCount * 2 + 4];
+                        java.lang.System.arraycopy(aArray, 0, grown, 0, aCount);
+                        aArray = grown;
+                    }
+                    aArray[aCount++] = reader.getStringValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (aCount != aArray.length)
+            {
+                result._a = new java.lang.String[aCount];
+                java.lang.System.arraycopy(aArray, 0, result._a, 0, aCount);
+            }
+            else
+                result._a = aArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._a != null)
+            {
+                for (int i = 0; i < this._a.length; i++)
+                {
+                    if (this._a[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "A", ns);
+                        writer.writeCharacters(this._a[i]);
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: subblock
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.SubblockDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one subblock(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.SubblockDocument.
+ */
+public class SubblockDocument
+{
+    private java.lang.String _subblock;
+    
+    /**
+     * Gets the "subblock" element
+     */
+    public java.lang.String getSubblock()
+    {
+        return _subblock;
+    }
+    
+    /**
+     * Sets the "subblock" element
+     */
+    public void setSubblock(java.lang.String subblock)
+    {
+        this._subblock = subblock;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be subblock(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static SubblockDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SubblockDocument result = new SubblockDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "subblock");
+        {
+            result._subblock = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static SubblockDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static SubblockDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static SubblockDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._subblock != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "subblock", ns);
+            writer.writeCharacters(this._subblock);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: X
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.XDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one X(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.XDocument.
+ */
+public class XDocument
+{
+    private org.openuri.sgs.pojo.Base _x;
+    
+    /**
+     * Gets the "X" element
+     */
+    public org.openuri.sgs.pojo.Base getX()
+    {
+        return _x;
+    }
+    
+    /**
+     * Sets the "X" element
+     */
+    public void setX(org.openuri.sgs.pojo.Base x)
+    {
+        this._x = x;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be X(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static XDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        XDocument result = new XDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "X");
+        {
+            result._x = org.openuri.sgs.pojo.Base.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static XDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static XDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static XDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._x != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "X", ns);
+            this._x.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+}
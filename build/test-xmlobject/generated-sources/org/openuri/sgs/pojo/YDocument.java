@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Y
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.YDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one Y(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.YDocument.
+ */
+public class YDocument
+{
+    private org.openuri.sgs.pojo.Base _y;
+    
+    /**
+     * Gets the "Y" element
+     */
+    public org.openuri.sgs.pojo.Base getY()
+    {
+        return _y;
+    }
+    
+    /**
+     * Sets the "Y" element
+     */
+    public void setY(org.openuri.sgs.pojo.Base y)
+    {
+        this._y = y;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Y(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static YDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        YDocument result = new YDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "Y");
+        {
+            result._y = org.openuri.sgs.pojo.Base.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static YDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static YDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static YDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._y != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "Y", ns);
+            this._y.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Z
+ * Namespace: http://openuri.org/sgs
+ * Java type: org.openuri.sgs.pojo.ZDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.sgs.pojo;
+
+/**
+ * A document containing one Z(@http://openuri.org/sgs) element.
+ *
+ * This is a plain Java binding of org.openuri.sgs.ZDocument.
+ */
+public class ZDocument
+{
+    private org.openuri.sgs.pojo.Ext _z;
+    
+    /**
+     * Gets the "Z" element
+     */
+    public org.openuri.sgs.pojo.Ext getZ()
+    {
+        return _z;
+    }
+    
+    /**
+     * Sets the "Z" element
+     */
+    public void setZ(org.openuri.sgs.pojo.Ext z)
+    {
+        this._z = z;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Z(@http://openuri.org/sgs), and leaves the reader on the end of
+     * that element.
+     */
+    public static ZDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ZDocument result = new ZDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/sgs", "Z");
+        {
+            result._z = org.openuri.sgs.pojo.Ext.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ZDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ZDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ZDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._z != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/sgs", "Z", ns);
+            this._z.write(writer, "http://openuri.org/sgs");
+            writer.writeEndElement();
+        }
+    }
+}
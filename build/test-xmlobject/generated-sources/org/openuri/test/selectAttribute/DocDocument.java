@@ -0,0 +1,184 @@
+/*
+ * An XML document type.
+ * Localname: Doc
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute;
+
+
+/**
+ * A document containing one Doc(@http://openuri.org/test/selectAttribute) element.
+ *
+ * This is a complex type.
+ */
+public interface DocDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DocDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("doc522bdoctype");
+    
+    /**
+     * Gets the "Doc" element
+     */
+    org.openuri.test.selectAttribute.DocDocument.Doc getDoc();
+    
+    /**
+     * Sets the "Doc" element
+     */
+    void setDoc(org.openuri.test.selectAttribute.DocDocument.Doc doc);
+    
+    /**
+     * Appends and returns a new empty "Doc" element
+     */
+    org.openuri.test.selectAttribute.DocDocument.Doc addNewDoc();
+    
+    /**
+     * An XML Doc(@http://openuri.org/test/selectAttribute).
+     *
+     * This is a complex type.
+     */
+    public interface Doc extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Doc.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("doc68afelemtype");
+        
+        /**
+         * Gets the "Normal" element
+         */
+        org.openuri.test.selectAttribute.NormalType getNormal();
+        
+        /**
+         * Sets the "Normal" element
+         */
+        void setNormal(org.openuri.test.selectAttribute.NormalType normal);
+        
+        /**
+         * Appends and returns a new empty "Normal" element
+         */
+        org.openuri.test.selectAttribute.NormalType addNewNormal();
+        
+        /**
+         * Gets the "WithAny" element
+         */
+        org.openuri.test.selectAttribute.WithAnyType getWithAny();
+        
+        /**
+         * Sets the "WithAny" element
+         */
+        void setWithAny(org.openuri.test.selectAttribute.WithAnyType withAny);
+        
+        /**
+         * Appends and returns a new empty "WithAny" element
+         */
+        org.openuri.test.selectAttribute.WithAnyType addNewWithAny();
+        
+        /**
+         * Gets the "WithOther" element
+         */
+        org.openuri.test.selectAttribute.WithOtherType getWithOther();
+        
+        /**
+         * Sets the "WithOther" element
+         */
+        void setWithOther(org.openuri.test.selectAttribute.WithOtherType withOther);
+        
+        /**
+         * Appends and returns a new empty "WithOther" element
+         */
+        org.openuri.test.selectAttribute.WithOtherType addNewWithOther();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.openuri.test.selectAttribute.DocDocument.Doc newInstance() {
+              return (org.openuri.test.selectAttribute.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.openuri.test.selectAttribute.DocDocument.Doc newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.openuri.test.selectAttribute.DocDocument.Doc) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.test.selectAttribute.DocDocument newInstance() {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.test.selectAttribute.DocDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.selectAttribute.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.selectAttribute.DocDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.selectAttribute.DocDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
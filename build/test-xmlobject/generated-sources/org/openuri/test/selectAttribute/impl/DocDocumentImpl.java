@@ -0,0 +1,245 @@
+/*
+ * An XML document type.
+ * Localname: Doc
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute.impl;
+/**
+ * A document containing one Doc(@http://openuri.org/test/selectAttribute) element.
+ *
+ * This is a complex type.
+ */
+public class DocDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectAttribute.DocDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOC$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectAttribute", "Doc");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 68888:
+                if (name.equals(DOC$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Doc" element
+     */
+    public org.openuri.test.selectAttribute.DocDocument.Doc getDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectAttribute.DocDocument.Doc target = null;
+            target = (org.openuri.test.selectAttribute.DocDocument.Doc)get_store().find_element_user(DOC$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Doc" element
+     */
+    public void setDoc(org.openuri.test.selectAttribute.DocDocument.Doc doc)
+    {
+        generatedSetterHelperImpl(doc, DOC$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Doc" element
+     */
+    public org.openuri.test.selectAttribute.DocDocument.Doc addNewDoc()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectAttribute.DocDocument.Doc target = null;
+            target = (org.openuri.test.selectAttribute.DocDocument.Doc)get_store().add_element_user(DOC$0);
+            return target;
+        }
+    }
+    /**
+     * An XML Doc(@http://openuri.org/test/selectAttribute).
+     *
+     * This is a complex type.
+     */
+    public static class DocImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectAttribute.DocDocument.Doc
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DocImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName NORMAL$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/selectAttribute", "Normal");
+        private static final javax.xml.namespace.QName WITHANY$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/selectAttribute", "WithAny");
+        private static final javax.xml.namespace.QName WITHOTHER$4 = 
+            new javax.xml.namespace.QName("http://openuri.org/test/selectAttribute", "WithOther");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(3);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1955878649:
+                    if (name.equals(NORMAL$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case -1393063478:
+                    if (name.equals(WITHOTHER$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case -1275204826:
+                    if (name.equals(WITHANY$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "Normal" element
+         */
+        public org.openuri.test.selectAttribute.NormalType getNormal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.NormalType target = null;
+                target = (org.openuri.test.selectAttribute.NormalType)get_store().find_element_user(NORMAL$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "Normal" element
+         */
+        public void setNormal(org.openuri.test.selectAttribute.NormalType normal)
+        {
+            generatedSetterHelperImpl(normal, NORMAL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "Normal" element
+         */
+        public org.openuri.test.selectAttribute.NormalType addNewNormal()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.NormalType target = null;
+                target = (org.openuri.test.selectAttribute.NormalType)get_store().add_element_user(NORMAL$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "WithAny" element
+         */
+        public org.openuri.test.selectAttribute.WithAnyType getWithAny()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.WithAnyType target = null;
+                target = (org.openuri.test.selectAttribute.WithAnyType)get_store().find_element_user(WITHANY$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "WithAny" element
+         */
+        public void setWithAny(org.openuri.test.selectAttribute.WithAnyType withAny)
+        {
+            generatedSetterHelperImpl(withAny, WITHANY$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "WithAny" element
+         */
+        public org.openuri.test.selectAttribute.WithAnyType addNewWithAny()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.WithAnyType target = null;
+                target = (org.openuri.test.selectAttribute.WithAnyType)get_store().add_element_user(WITHANY$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "WithOther" element
+         */
+        public org.openuri.test.selectAttribute.WithOtherType getWithOther()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.WithOtherType target = null;
+                target = (org.openuri.test.selectAttribute.WithOtherType)get_store().find_element_user(WITHOTHER$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "WithOther" element
+         */
+        public void setWithOther(org.openuri.test.selectAttribute.WithOtherType withOther)
+        {
+            generatedSetterHelperImpl(withOther, WITHOTHER$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "WithOther" element
+         */
+        public org.openuri.test.selectAttribute.WithOtherType addNewWithOther()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.test.selectAttribute.WithOtherType target = null;
+                target = (org.openuri.test.selectAttribute.WithOtherType)get_store().add_element_user(WITHOTHER$4);
+                return target;
+            }
+        }
+    }
+}
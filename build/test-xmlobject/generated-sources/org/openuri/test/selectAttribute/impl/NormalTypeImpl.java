@@ -0,0 +1,212 @@
+/*
+ * XML Type:  normalType
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.NormalType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute.impl;
+/**
+ * An XML normalType(@http://openuri.org/test/selectAttribute).
+ *
+ * This is a complex type.
+ */
+public class NormalTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectAttribute.NormalType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NormalTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATT1$0 = 
+        new javax.xml.namespace.QName("", "att1");
+    private static final javax.xml.namespace.QName ATT2$2 = 
+        new javax.xml.namespace.QName("", "att2");
+    
+    
+    /**
+     * Gets the "att1" attribute
+     */
+    public java.lang.String getAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "att1" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "att1" attribute
+     */
+    public boolean isSetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATT1$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "att1" attribute
+     */
+    public void setAtt1(java.lang.String att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATT1$0);
+            }
+            target.setStringValue(att1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "att1" attribute
+     */
+    public void xsetAtt1(org.apache.xmlbeans.XmlString att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATT1$0);
+            }
+            target.set(att1);
+        }
+    }
+    
+    /**
+     * Unsets the "att1" attribute
+     */
+    public void unsetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATT1$0);
+        }
+    }
+    
+    /**
+     * Gets the "att2" attribute
+     */
+    public java.lang.String getAtt2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT2$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "att2" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAtt2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT2$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "att2" attribute
+     */
+    public boolean isSetAtt2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATT2$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "att2" attribute
+     */
+    public void setAtt2(java.lang.String att2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT2$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATT2$2);
+            }
+            target.setStringValue(att2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "att2" attribute
+     */
+    public void xsetAtt2(org.apache.xmlbeans.XmlString att2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT2$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATT2$2);
+            }
+            target.set(att2);
+        }
+    }
+    
+    /**
+     * Unsets the "att2" attribute
+     */
+    public void unsetAtt2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATT2$2);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * XML Type:  withAnyType
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.WithAnyType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute.impl;
+/**
+ * An XML withAnyType(@http://openuri.org/test/selectAttribute).
+ *
+ * This is a complex type.
+ */
+public class WithAnyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectAttribute.WithAnyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WithAnyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ATT1$0 = 
+        new javax.xml.namespace.QName("", "att1");
+    
+    
+    /**
+     * Gets the "att1" attribute
+     */
+    public java.lang.String getAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "att1" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "att1" attribute
+     */
+    public boolean isSetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATT1$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "att1" attribute
+     */
+    public void setAtt1(java.lang.String att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATT1$0);
+            }
+            target.setStringValue(att1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "att1" attribute
+     */
+    public void xsetAtt1(org.apache.xmlbeans.XmlString att1)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATT1$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATT1$0);
+            }
+            target.set(att1);
+        }
+    }
+    
+    /**
+     * Unsets the "att1" attribute
+     */
+    public void unsetAtt1()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATT1$0);
+        }
+    }
+}
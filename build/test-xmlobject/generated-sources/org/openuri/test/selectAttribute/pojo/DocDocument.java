@@ -0,0 +1,238 @@
+/*
+ * An XML document type.
+ * Localname: Doc
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.pojo.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute.pojo;
+
+/**
+ * A document containing one Doc(@http://openuri.org/test/selectAttribute) element.
+ *
+ * This is a plain Java binding of org.openuri.test.selectAttribute.DocDocument.
+ */
+public class DocDocument
+{
+    private org.openuri.test.selectAttribute.pojo.DocDocument.Doc _doc;
+    
+    /**
+     * Gets the "Doc" element
+     */
+    public org.openuri.test.selectAttribute.pojo.DocDocument.Doc getDoc()
+    {
+        return _doc;
+    }
+    
+    /**
+     * Sets the "Doc" element
+     */
+    public void setDoc(org.openuri.test.selectAttribute.pojo.DocDocument.Doc doc)
+    {
+        this._doc = doc;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Doc(@http://openuri.org/test/selectAttribute), and leaves the reader on the end of
+     * that element.
+     */
+    public static DocDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DocDocument result = new DocDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/test/selectAttribute", "Doc");
+        {
+            result._doc = org.openuri.test.selectAttribute.pojo.DocDocument.Doc.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static DocDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static DocDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static DocDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._doc != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectAttribute", "Doc", ns);
+            this._doc.write(writer, "http://openuri.org/test/selectAttribute");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.test.selectAttribute.DocDocument.Doc.
+     */
+    public static class Doc
+    {
+        private org.openuri.test.selectAttribute.pojo.NormalType _normal;
+        private org.openuri.test.selectAttribute.pojo.WithAnyType _withAny;
+        private org.openuri.test.selectAttribute.pojo.WithOtherType _withOther;
+        
+        /**
+         * Gets the "Normal" element
+         */
+        public org.openuri.test.selectAttribute.pojo.NormalType getNormal()
+        {
+            return _normal;
+        }
+        
+        /**
+         * Sets the "Normal" element
+         */
+        public void setNormal(org.openuri.test.selectAttribute.pojo.NormalType normal)
+        {
+            this._normal = normal;
+        }
+        
+        /**
+         * Gets the "WithAny" element
+         */
+        public org.openuri.test.selectAttribute.pojo.WithAnyType getWithAny()
+        {
+            return _withAny;
+        }
+        
+        /**
+         * Sets the "WithAny" element
+         */
+        public void setWithAny(org.openuri.test.selectAttribute.pojo.WithAnyType withAny)
+        {
+            this._withAny = withAny;
+        }
+        
+        /**
+         * Gets the "WithOther" element
+         */
+        public org.openuri.test.selectAttribute.pojo.WithOtherType getWithOther()
+        {
+            return _withOther;
+        }
+        
+        /**
+         * Sets the "WithOther" element
+         */
+        public void setWithOther(org.openuri.test.selectAttribute.pojo.WithOtherType withOther)
+        {
+            this._withOther = withOther;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Doc read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Doc result = new Doc();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("Normal".equals(local) && "http://openuri.org/test/selectAttribute".equals(uri))
+                {
+                    result._normal = org.openuri.test.selectAttribute.pojo.NormalType.read(reader);
+                }
+                else if ("WithAny".equals(local) && "http://openuri.org/test/selectAttribute".equals(uri))
+                {
+                    result._withAny = org.openuri.test.selectAttribute.pojo.WithAnyType.read(reader);
+                }
+                else if ("WithOther".equals(local) && "http://openuri.org/test/selectAttribute".equals(uri))
+                {
+                    result._withOther = org.openuri.test.selectAttribute.pojo.WithOtherType.read(reader);
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._normal != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectAttribute", "Normal", ns);
+                this._normal.write(writer, "http://openuri.org/test/selectAttribute");
+                writer.writeEndElement();
+            }
+            if (this._withAny != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectAttribute", "WithAny", ns);
+                this._withAny.write(writer, "http://openuri.org/test/selectAttribute");
+                writer.writeEndElement();
+            }
+            if (this._withOther != null)
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectAttribute", "WithOther", ns);
+                this._withOther.write(writer, "http://openuri.org/test/selectAttribute");
+                writer.writeEndElement();
+            }
+        }
+    }
+}
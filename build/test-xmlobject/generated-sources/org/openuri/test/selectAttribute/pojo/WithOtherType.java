@@ -0,0 +1,74 @@
+/*
+ * XML Type:  withOtherType
+ * Namespace: http://openuri.org/test/selectAttribute
+ * Java type: org.openuri.test.selectAttribute.pojo.WithOtherType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectAttribute.pojo;
+
+/**
+ * An XML withOtherType(@http://openuri.org/test/selectAttribute).
+ *
+ * This is a plain Java binding of org.openuri.test.selectAttribute.WithOtherType.
+ */
+public class WithOtherType
+{
+    private java.lang.String _att2;
+    
+    /**
+     * Gets the "att2" attribute
+     */
+    public java.lang.String getAtt2()
+    {
+        return _att2;
+    }
+    
+    /**
+     * Sets the "att2" attribute
+     */
+    public void setAtt2(java.lang.String att2)
+    {
+        this._att2 = att2;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static WithOtherType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WithOtherType result = new WithOtherType();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("att2".equals(local) && "".equals(uri))
+                result._att2 = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._att2 != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "att2", this._att2);
+    }
+}
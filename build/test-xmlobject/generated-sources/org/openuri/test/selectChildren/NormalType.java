@@ -0,0 +1,206 @@
+/*
+ * XML Type:  normalType
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.NormalType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren;
+
+
+/**
+ * An XML normalType(@http://openuri.org/test/selectChildren).
+ *
+ * This is a complex type.
+ */
+public interface NormalType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(NormalType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("normaltype3c45type");
+    
+    /**
+     * Gets the "first" element
+     */
+    java.lang.String getFirst();
+    
+    /**
+     * Gets (as xml) the "first" element
+     */
+    org.apache.xmlbeans.XmlString xgetFirst();
+    
+    /**
+     * Sets the "first" element
+     */
+    void setFirst(java.lang.String first);
+    
+    /**
+     * Sets (as xml) the "first" element
+     */
+    void xsetFirst(org.apache.xmlbeans.XmlString first);
+    
+    /**
+     * Gets the "second" element
+     */
+    java.lang.String getSecond();
+    
+    /**
+     * Gets (as xml) the "second" element
+     */
+    org.apache.xmlbeans.XmlString xgetSecond();
+    
+    /**
+     * Sets the "second" element
+     */
+    void setSecond(java.lang.String second);
+    
+    /**
+     * Sets (as xml) the "second" element
+     */
+    void xsetSecond(org.apache.xmlbeans.XmlString second);
+    
+    /**
+     * Gets array of all "numbers" elements
+     */
+    int[] getNumbersArray();
+    
+    /**
+     * Gets ith "numbers" element
+     */
+    int getNumbersArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "numbers" elements
+     */
+    org.apache.xmlbeans.XmlInt[] xgetNumbersArray();
+    
+    /**
+     * Gets (as xml) ith "numbers" element
+     */
+    org.apache.xmlbeans.XmlInt xgetNumbersArray(int i);
+    
+    /**
+     * Returns number of "numbers" element
+     */
+    int sizeOfNumbersArray();
+    
+    /**
+     * Sets array of all "numbers" element
+     */
+    void setNumbersArray(int[] numbersArray);
+    
+    /**
+     * Sets ith "numbers" element
+     */
+    void setNumbersArray(int i, int numbers);
+    
+    /**
+     * Sets (as xml) array of all "numbers" element
+     */
+    void xsetNumbersArray(org.apache.xmlbeans.XmlInt[] numbersArray);
+    
+    /**
+     * Sets (as xml) ith "numbers" element
+     */
+    void xsetNumbersArray(int i, org.apache.xmlbeans.XmlInt numbers);
+    
+    /**
+     * Inserts the value as the ith "numbers" element
+     */
+    void insertNumbers(int i, int numbers);
+    
+    /**
+     * Appends the value as the last "numbers" element
+     */
+    void addNumbers(int numbers);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "numbers" element
+     */
+    org.apache.xmlbeans.XmlInt insertNewNumbers(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "numbers" element
+     */
+    org.apache.xmlbeans.XmlInt addNewNumbers();
+    
+    /**
+     * Removes the ith "numbers" element
+     */
+    void removeNumbers(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.test.selectChildren.NormalType newInstance() {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.test.selectChildren.NormalType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.test.selectChildren.NormalType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.selectChildren.NormalType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.openuri.test.selectChildren.NormalType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.test.selectChildren.NormalType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: ElemWithAny
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.ElemWithAnyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.impl;
+/**
+ * A document containing one ElemWithAny(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a complex type.
+ */
+public class ElemWithAnyDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectChildren.ElemWithAnyDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElemWithAnyDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMWITHANY$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "ElemWithAny");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1635927913:
+                if (name.equals(ELEMWITHANY$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "ElemWithAny" element
+     */
+    public org.openuri.test.selectChildren.WithAnyType getElemWithAny()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectChildren.WithAnyType target = null;
+            target = (org.openuri.test.selectChildren.WithAnyType)get_store().find_element_user(ELEMWITHANY$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ElemWithAny" element
+     */
+    public void setElemWithAny(org.openuri.test.selectChildren.WithAnyType elemWithAny)
+    {
+        generatedSetterHelperImpl(elemWithAny, ELEMWITHANY$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ElemWithAny" element
+     */
+    public org.openuri.test.selectChildren.WithAnyType addNewElemWithAny()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectChildren.WithAnyType target = null;
+            target = (org.openuri.test.selectChildren.WithAnyType)get_store().add_element_user(ELEMWITHANY$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: Normal
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.NormalDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.impl;
+/**
+ * A document containing one Normal(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a complex type.
+ */
+public class NormalDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectChildren.NormalDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NormalDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NORMAL$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "Normal");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1955878649:
+                if (name.equals(NORMAL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "Normal" element
+     */
+    public org.openuri.test.selectChildren.NormalType getNormal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectChildren.NormalType target = null;
+            target = (org.openuri.test.selectChildren.NormalType)get_store().find_element_user(NORMAL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "Normal" element
+     */
+    public void setNormal(org.openuri.test.selectChildren.NormalType normal)
+    {
+        generatedSetterHelperImpl(normal, NORMAL$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Normal" element
+     */
+    public org.openuri.test.selectChildren.NormalType addNewNormal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.test.selectChildren.NormalType target = null;
+            target = (org.openuri.test.selectChildren.NormalType)get_store().add_element_user(NORMAL$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * XML Type:  normalType
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.NormalType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.impl;
+/**
+ * An XML normalType(@http://openuri.org/test/selectChildren).
+ *
+ * This is a complex type.
+ */
+public class NormalTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectChildren.NormalType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NormalTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRST$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "first");
+    private static final javax.xml.namespace.QName SECOND$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "second");
+    private static final javax.xml.namespace.QName NUMBERS$4 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "numbers");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2000515510:
+                if (name.equals(NUMBERS$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -906279820:
+                if (name.equals(SECOND$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 97440432:
+                if (name.equals(FIRST$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "first" element
+     */
+    public java.lang.String getFirst()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "first" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFirst()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRST$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "first" element
+     */
+    public void setFirst(java.lang.String first)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIRST$0);
+            }
+            target.setStringValue(first);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "first" element
+     */
+    public void xsetFirst(org.apache.xmlbeans.XmlString first)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FIRST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FIRST$0);
+            }
+            target.set(first);
+        }
+    }
+    
+    /**
+     * Gets the "second" element
+     */
+    public java.lang.String getSecond()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SECOND$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "second" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSecond()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SECOND$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "second" element
+     */
+    public void setSecond(java.lang.String second)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SECOND$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SECOND$2);
+            }
+            target.setStringValue(second);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "second" element
+     */
+    public void xsetSecond(org.apache.xmlbeans.XmlString second)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SECOND$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SECOND$2);
+            }
+            target.set(second);
+        }
+    }
+    
+    /**
+     * Gets array of all "numbers" elements
+     */
+    public int[] getNumbersArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NUMBERS$4, targetList);
+            int[] result = new int[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getIntValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "numbers" element
+     */
+    public int getNumbersArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(NUMBERS$4, i, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERS$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "numbers" elements
+     */
+    public org.apache.xmlbeans.XmlInt[] xgetNumbersArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(NUMBERS$4, targetList);
+            org.apache.xmlbeans.XmlInt[] result = new org.apache.xmlbeans.XmlInt[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "numbers" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetNumbersArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(NUMBERS$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "numbers" element
+     */
+    public int sizeOfNumbersArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(NUMBERS$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "numbers" element
+     */
+    public void setNumbersArray(int[] numbersArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(numbersArray, NUMBERS$4);
+        }
+    }
+    
+    /**
+     * Sets ith "numbers" element
+     */
+    public void setNumbersArray(int i, int numbers)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NUMBERS$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setIntValue(numbers);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "numbers" element
+     */
+    public void xsetNumbersArray(org.apache.xmlbeans.XmlInt[]numbersArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(numbersArray, NUMBERS$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "numbers" element
+     */
+    public void xsetNumbersArray(int i, org.apache.xmlbeans.XmlInt numbers)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(NUMBERS$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(numbers);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "numbers" element
+     */
+    public void insertNumbers(int i, int numbers)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(NUMBERS$4, i);
+            target.setIntValue(numbers);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "numbers" element
+     */
+    public void addNumbers(int numbers)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NUMBERS$4);
+            target.setIntValue(numbers);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "numbers" element
+     */
+    public org.apache.xmlbeans.XmlInt insertNewNumbers(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().insert_element_user(NUMBERS$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "numbers" element
+     */
+    public org.apache.xmlbeans.XmlInt addNewNumbers()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(NUMBERS$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "numbers" element
+     */
+    public void removeNumbers(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(NUMBERS$4, i);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: topLevelElement
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.TopLevelElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.impl;
+/**
+ * A document containing one topLevelElement(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a complex type.
+ */
+public class TopLevelElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectChildren.TopLevelElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TopLevelElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TOPLEVELELEMENT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "topLevelElement");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -220881715:
+                if (name.equals(TOPLEVELELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "topLevelElement" element
+     */
+    public java.lang.String getTopLevelElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOPLEVELELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "topLevelElement" element
+     */
+    public org.apache.xmlbeans.XmlString xgetTopLevelElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TOPLEVELELEMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "topLevelElement" element
+     */
+    public void setTopLevelElement(java.lang.String topLevelElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TOPLEVELELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TOPLEVELELEMENT$0);
+            }
+            target.setStringValue(topLevelElement);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "topLevelElement" element
+     */
+    public void xsetTopLevelElement(org.apache.xmlbeans.XmlString topLevelElement)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(TOPLEVELELEMENT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(TOPLEVELELEMENT$0);
+            }
+            target.set(topLevelElement);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  withAnyType
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.WithAnyType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.impl;
+/**
+ * An XML withAnyType(@http://openuri.org/test/selectChildren).
+ *
+ * This is a complex type.
+ */
+public class WithAnyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.test.selectChildren.WithAnyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WithAnyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLE$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/test/selectChildren", "simple");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -902286926:
+                if (name.equals(SIMPLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "simple" element
+     */
+    public java.lang.String getSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "simple" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSimple()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "simple" element
+     */
+    public void setSimple(java.lang.String simple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIMPLE$0);
+            }
+            target.setStringValue(simple);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "simple" element
+     */
+    public void xsetSimple(org.apache.xmlbeans.XmlString simple)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SIMPLE$0);
+            }
+            target.set(simple);
+        }
+    }
+}
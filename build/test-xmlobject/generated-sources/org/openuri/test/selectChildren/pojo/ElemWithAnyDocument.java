@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: ElemWithAny
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.pojo.ElemWithAnyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.pojo;
+
+/**
+ * A document containing one ElemWithAny(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a plain Java binding of org.openuri.test.selectChildren.ElemWithAnyDocument.
+ */
+public class ElemWithAnyDocument
+{
+    private org.openuri.test.selectChildren.pojo.WithAnyType _elemWithAny;
+    
+    /**
+     * Gets the "ElemWithAny" element
+     */
+    public org.openuri.test.selectChildren.pojo.WithAnyType getElemWithAny()
+    {
+        return _elemWithAny;
+    }
+    
+    /**
+     * Sets the "ElemWithAny" element
+     */
+    public void setElemWithAny(org.openuri.test.selectChildren.pojo.WithAnyType elemWithAny)
+    {
+        this._elemWithAny = elemWithAny;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be ElemWithAny(@http://openuri.org/test/selectChildren), and leaves the reader on the end of
+     * that element.
+     */
+    public static ElemWithAnyDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ElemWithAnyDocument result = new ElemWithAnyDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/test/selectChildren", "ElemWithAny");
+        {
+            result._elemWithAny = org.openuri.test.selectChildren.pojo.WithAnyType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ElemWithAnyDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ElemWithAnyDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ElemWithAnyDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._elemWithAny != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "ElemWithAny", ns);
+            this._elemWithAny.write(writer, "http://openuri.org/test/selectChildren");
+            writer.writeEndElement();
+        }
+    }
+}
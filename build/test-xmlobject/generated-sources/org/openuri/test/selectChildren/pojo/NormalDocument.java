@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Normal
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.pojo.NormalDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.pojo;
+
+/**
+ * A document containing one Normal(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a plain Java binding of org.openuri.test.selectChildren.NormalDocument.
+ */
+public class NormalDocument
+{
+    private org.openuri.test.selectChildren.pojo.NormalType _normal;
+    
+    /**
+     * Gets the "Normal" element
+     */
+    public org.openuri.test.selectChildren.pojo.NormalType getNormal()
+    {
+        return _normal;
+    }
+    
+    /**
+     * Sets the "Normal" element
+     */
+    public void setNormal(org.openuri.test.selectChildren.pojo.NormalType normal)
+    {
+        this._normal = normal;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Normal(@http://openuri.org/test/selectChildren), and leaves the reader on the end of
+     * that element.
+     */
+    public static NormalDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        NormalDocument result = new NormalDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/test/selectChildren", "Normal");
+        {
+            result._normal = org.openuri.test.selectChildren.pojo.NormalType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static NormalDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static NormalDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static NormalDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._normal != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "Normal", ns);
+            this._normal.write(writer, "http://openuri.org/test/selectChildren");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * XML Type:  normalType
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.pojo.NormalType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.pojo;
+
+/**
+ * An XML normalType(@http://openuri.org/test/selectChildren).
+ *
+ * This is a plain Java binding of org.openuri.test.selectChildren.NormalType.
+ */
+public class NormalType
+{
+    private java.lang.String _first;
+    private java.lang.String _second;
+    private int[] _numbers;
+    
+    /**
+     * Gets the "first" element
+     */
+    public java.lang.String getFirst()
+    {
+        return _first;
+    }
+    
+    /**
+     * Sets the "first" element
+     */
+    public void setFirst(java.lang.String first)
+    {
+        this._first = first;
+    }
+    
+    /**
+     * Gets the "second" element
+     */
+    public java.lang.String getSecond()
+    {
+        return _second;
+    }
+    
+    /**
+     * Sets the "second" element
+     */
+    public void setSecond(java.lang.String second)
+    {
+        this._second = second;
+    }
+    
+    /**
+     * Gets array of all "numbers" elements
+     */
+    public int[] getNumbersArray()
+    {
+        return _numbers;
+    }
+    
+    /**
+     * Sets array of all "numbers" elements
+     */
+    public void setNumbersArray(int[] numbers)
+    {
+        this._numbers = numbers;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static NormalType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        NormalType result = new NormalType();
+        int[] numbersArray = new int[0]; int numbersCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("first".equals(local) && "http://openuri.org/test/selectChildren".equals(uri))
+            {
+                result._first = reader.getStringValue();
+            }
+            else if ("second".equals(local) && "http://openuri.org/test/selectChildren".equals(uri))
+            {
+                result._second = reader.getStringValue();
+            }
+            else if ("numbers".equals(local) && "http://openuri.org/test/selectChildren".equals(uri))
+            {
+                if (numbersCount == numbersArray.length)
+                {
+                    int[] grown = new int[numbersCount * 2 + 4];
+                    java.lang.System.arraycopy(numbersArray, 0, grown, 0, numbersCount);
+                    numbersArray = grown;
+                }
+                numbersArray[numbersCount++] = reader.getIntValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (numbersCount != numbersArray.length)
+        {
+            result._numbers = new int[numbersCount];
+            java.lang.System.arraycopy(numbersArray, 0, result._numbers, 0, numbersCount);
+        }
+        else
+            result._numbers = numbersArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._first != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "first", ns);
+            writer.writeCharacters(this._first);
+            writer.writeEndElement();
+        }
+        if (this._second != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "second", ns);
+            writer.writeCharacters(this._second);
+            writer.writeEndElement();
+        }
+        if (this._numbers != null)
+        {
+            for (int i = 0; i < this._numbers.length; i++)
+            {
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "numbers", ns);
+                    writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._numbers[i]));
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
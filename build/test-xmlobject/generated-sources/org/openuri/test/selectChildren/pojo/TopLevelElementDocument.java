@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: topLevelElement
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.pojo.TopLevelElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.pojo;
+
+/**
+ * A document containing one topLevelElement(@http://openuri.org/test/selectChildren) element.
+ *
+ * This is a plain Java binding of org.openuri.test.selectChildren.TopLevelElementDocument.
+ */
+public class TopLevelElementDocument
+{
+    private java.lang.String _topLevelElement;
+    
+    /**
+     * Gets the "topLevelElement" element
+     */
+    public java.lang.String getTopLevelElement()
+    {
+        return _topLevelElement;
+    }
+    
+    /**
+     * Sets the "topLevelElement" element
+     */
+    public void setTopLevelElement(java.lang.String topLevelElement)
+    {
+        this._topLevelElement = topLevelElement;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be topLevelElement(@http://openuri.org/test/selectChildren), and leaves the reader on the end of
+     * that element.
+     */
+    public static TopLevelElementDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TopLevelElementDocument result = new TopLevelElementDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/test/selectChildren", "topLevelElement");
+        {
+            result._topLevelElement = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static TopLevelElementDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static TopLevelElementDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static TopLevelElementDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._topLevelElement != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "topLevelElement", ns);
+            writer.writeCharacters(this._topLevelElement);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * XML Type:  withAnyType
+ * Namespace: http://openuri.org/test/selectChildren
+ * Java type: org.openuri.test.selectChildren.pojo.WithAnyType
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.test.selectChildren.pojo;
+
+/**
+ * An XML withAnyType(@http://openuri.org/test/selectChildren).
+ *
+ * This is a plain Java binding of org.openuri.test.selectChildren.WithAnyType.
+ */
+public class WithAnyType
+{
+    private java.lang.String _simple;
+    
+    /**
+     * Gets the "simple" element
+     */
+    public java.lang.String getSimple()
+    {
+        return _simple;
+    }
+    
+    /**
+     * Sets the "simple" element
+     */
+    public void setSimple(java.lang.String simple)
+    {
+        this._simple = simple;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static WithAnyType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WithAnyType result = new WithAnyType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("simple".equals(local) && "http://openuri.org/test/selectChildren".equals(uri))
+            {
+                result._simple = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._simple != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/test/selectChildren", "simple", ns);
+            writer.writeCharacters(this._simple);
+            writer.writeEndElement();
+        }
+    }
+}
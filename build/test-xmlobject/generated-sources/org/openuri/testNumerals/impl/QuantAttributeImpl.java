@@ -0,0 +1,131 @@
+/*
+ * An XML attribute type.
+ * Localname: quant
+ * Namespace: http://openuri.org/testNumerals
+ * Java type: org.openuri.testNumerals.QuantAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.testNumerals.impl;
+/**
+ * A document containing one quant(@http://openuri.org/testNumerals) attribute.
+ *
+ * This is a complex type.
+ */
+public class QuantAttributeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.testNumerals.QuantAttribute
+{
+    private static final long serialVersionUID = 1L;
+    
+    public QuantAttributeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName QUANT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/testNumerals", "quant");
+    
+    
+    /**
+     * Gets the "quant" attribute
+     */
+    public byte getQuant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(QUANT$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexByte(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUANT$0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getByteValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "quant" attribute
+     */
+    public org.apache.xmlbeans.XmlByte xgetQuant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_attribute_user(QUANT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "quant" attribute
+     */
+    public boolean isSetQuant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(QUANT$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "quant" attribute
+     */
+    public void setQuant(byte quant)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUANT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUANT$0);
+            }
+            target.setByteValue(quant);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "quant" attribute
+     */
+    public void xsetQuant(org.apache.xmlbeans.XmlByte quant)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlByte target = null;
+            target = (org.apache.xmlbeans.XmlByte)get_store().find_attribute_user(QUANT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlByte)get_store().add_attribute_user(QUANT$0);
+            }
+            target.set(quant);
+        }
+    }
+    
+    /**
+     * Unsets the "quant" attribute
+     */
+    public void unsetQuant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(QUANT$0);
+        }
+    }
+}
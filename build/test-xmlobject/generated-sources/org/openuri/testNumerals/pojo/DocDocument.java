@@ -0,0 +1,966 @@
+/*
+ * An XML document type.
+ * Localname: doc
+ * Namespace: http://openuri.org/testNumerals
+ * Java type: org.openuri.testNumerals.pojo.DocDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.testNumerals.pojo;
+
+/**
+ * A document containing one doc(@http://openuri.org/testNumerals) element.
+ *
+ * This is a plain Java binding of org.openuri.testNumerals.DocDocument.
+ */
+public class DocDocument
+{
+    private org.openuri.testNumerals.pojo.DocDocument.Doc _doc;
+    
+    /**
+     * Gets the "doc" element
+     */
+    public org.openuri.testNumerals.pojo.DocDocument.Doc getDoc()
+    {
+        return _doc;
+    }
+    
+    /**
+     * Sets the "doc" element
+     */
+    public void setDoc(org.openuri.testNumerals.pojo.DocDocument.Doc doc)
+    {
+        this._doc = doc;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be doc(@http://openuri.org/testNumerals), and leaves the reader on the end of
+     * that element.
+     */
+    public static DocDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DocDocument result = new DocDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/testNumerals", "doc");
+        {
+            result._doc = org.openuri.testNumerals.pojo.DocDocument.Doc.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static DocDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static DocDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static DocDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._doc != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "doc", ns);
+            this._doc.write(writer, "http://openuri.org/testNumerals");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of org.openuri.testNumerals.DocDocument.Doc.
+     */
+    public static class Doc
+    {
+        private int[] _int;
+        private short[] _short;
+        private byte[] _byte;
+        private double[] _double;
+        private float[] _float;
+        private boolean[] _boolean;
+        private java.lang.String[] _string;
+        private java.math.BigDecimal[] _decimal;
+        private java.math.BigInteger[] _integer;
+        private long[] _long;
+        private byte[][] _hexBinary;
+        private byte[][] _base64Binary;
+        private java.util.Calendar[] _date;
+        private java.util.Calendar[] _dateTime;
+        private java.util.Calendar[] _gYearMonth;
+        private org.apache.xmlbeans.GDuration[] _duration;
+        private javax.xml.namespace.QName[] _qName;
+        
+        /**
+         * Gets array of all "int" elements
+         */
+        public int[] getIntArray()
+        {
+            return _int;
+        }
+        
+        /**
+         * Sets array of all "int" elements
+         */
+        public void setIntArray(int[] xint)
+        {
+            this._int = xint;
+        }
+        
+        /**
+         * Gets array of all "short" elements
+         */
+        public short[] getShortArray()
+        {
+            return _short;
+        }
+        
+        /**
+         * Sets array of all "short" elements
+         */
+        public void setShortArray(short[] xshort)
+        {
+            this._short = xshort;
+        }
+        
+        /**
+         * Gets array of all "byte" elements
+         */
+        public byte[] getByteArray()
+        {
+            return _byte;
+        }
+        
+        /**
+         * Sets array of all "byte" elements
+         */
+        public void setByteArray(byte[] xbyte)
+        {
+            this._byte = xbyte;
+        }
+        
+        /**
+         * Gets array of all "double" elements
+         */
+        public double[] getDoubleArray()
+        {
+            return _double;
+        }
+        
+        /**
+         * Sets array of all "double" elements
+         */
+        public void setDoubleArray(double[] xdouble)
+        {
+            this._double = xdouble;
+        }
+        
+        /**
+         * Gets array of all "float" elements
+         */
+        public float[] getFloatArray()
+        {
+            return _float;
+        }
+        
+        /**
+         * Sets array of all "float" elements
+         */
+        public void setFloatArray(float[] xfloat)
+        {
+            this._float = xfloat;
+        }
+        
+        /**
+         * Gets array of all "boolean" elements
+         */
+        public boolean[] getBooleanArray()
+        {
+            return _boolean;
+        }
+        
+        /**
+         * Sets array of all "boolean" elements
+         */
+        public void setBooleanArray(boolean[] xboolean)
+        {
+            this._boolean = xboolean;
+        }
+        
+        /**
+         * Gets array of all "string" elements
+         */
+        public java.lang.String[] getStringArray()
+        {
+            return _string;
+        }
+        
+        /**
+         * Sets array of all "string" elements
+         */
+        public void setStringArray(java.lang.String[] string)
+        {
+            this._string = string;
+        }
+        
+        /**
+         * Gets array of all "decimal" elements
+         */
+        public java.math.BigDecimal[] getDecimalArray()
+        {
+            return _decimal;
+        }
+        
+        /**
+         * Sets array of all "decimal" elements
+         */
+        public void setDecimalArray(java.math.BigDecimal[] decimal)
+        {
+            this._decimal = decimal;
+        }
+        
+        /**
+         * Gets array of all "integer" elements
+         */
+        public java.math.BigInteger[] getIntegerArray()
+        {
+            return _integer;
+        }
+        
+        /**
+         * Sets array of all "integer" elements
+         */
+        public void setIntegerArray(java.math.BigInteger[] integer)
+        {
+            this._integer = integer;
+        }
+        
+        /**
+         * Gets array of all "long" elements
+         */
+        public long[] getLongArray()
+        {
+            return _long;
+        }
+        
+        /**
+         * Sets array of all "long" elements
+         */
+        public void setLongArray(long[] xlong)
+        {
+            this._long = xlong;
+        }
+        
+        /**
+         * Gets array of all "hexBinary" elements
+         */
+        public byte[][] getHexBinaryArray()
+        {
+            return _hexBinary;
+        }
+        
+        /**
+         * Sets array of all "hexBinary" elements
+         */
+        public void setHexBinaryArray(byte[][] hexBinary)
+        {
+            this._hexBinary = hexBinary;
+        }
+        
+        /**
+         * Gets array of all "base64Binary" elements
+         */
+        public byte[][] getBase64BinaryArray()
+        {
+            return _base64Binary;
+        }
+        
+        /**
+         * Sets array of all "base64Binary" elements
+         */
+        public void setBase64BinaryArray(byte[][] base64Binary)
+        {
+            this._base64Binary = base64Binary;
+        }
+        
+        /**
+         * Gets array of all "date" elements
+         */
+        public java.util.Calendar[] getDateArray()
+        {
+            return _date;
+        }
+        
+        /**
+         * Sets array of all "date" elements
+         */
+        public void setDateArray(java.util.Calendar[] date)
+        {
+            this._date = date;
+        }
+        
+        /**
+         * Gets array of all "dateTime" elements
+         */
+        public java.util.Calendar[] getDateTimeArray()
+        {
+            return _dateTime;
+        }
+        
+        /**
+         * Sets array of all "dateTime" elements
+         */
+        public void setDateTimeArray(java.util.Calendar[] dateTime)
+        {
+            this._dateTime = dateTime;
+        }
+        
+        /**
+         * Gets array of all "gYearMonth" elements
+         */
+        public java.util.Calendar[] getGYearMonthArray()
+        {
+            return _gYearMonth;
+        }
+        
+        /**
+         * Sets array of all "gYearMonth" elements
+         */
+        public void setGYearMonthArray(java.util.Calendar[] gYearMonth)
+        {
+            this._gYearMonth = gYearMonth;
+        }
+        
+        /**
+         * Gets array of all "duration" elements
+         */
+        public org.apache.xmlbeans.GDuration[] getDurationArray()
+        {
+            return _duration;
+        }
+        
+        /**
+         * Sets array of all "duration" elements
+         */
+        public void setDurationArray(org.apache.xmlbeans.GDuration[] duration)
+        {
+            this._duration = duration;
+        }
+        
+        /**
+         * Gets array of all "QName" elements
+         */
+        public javax.xml.namespace.QName[] getQNameArray()
+        {
+            return _qName;
+        }
+        
+        /**
+         * Sets array of all "QName" elements
+         */
+        public void setQNameArray(javax.xml.namespace.QName[] qName)
+        {
+            this._qName = qName;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Doc read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Doc result = new Doc();
+            int[] xintArray = new int[0]; int xintCount = 0;
+            short[] xshortArray = new short[0]; int xshortCount = 0;
+            byte[] xbyteArray = new byte[0]; int xbyteCount = 0;
+            double[] xdoubleArray = new double[0]; int xdoubleCount = 0;
+            float[] xfloatArray = new float[0]; int xfloatCount = 0;
+            boolean[] xbooleanArray = new boolean[0]; int xbooleanCount = 0;
+            java.lang.String[] stringArray = new java.lang.String[0]; int stringCount = 0;
+            java.math.BigDecimal[] decimalArray = new java.math.BigDecimal[0]; int decimalCount = 0;
+            java.math.BigInteger[] integerArray = new java.math.BigInteger[0]; int integerCount = 0;
+            long[] xlongArray = new long[0]; int xlongCount = 0;
+            byte[][] hexBinaryArray = new byte[0][]; int hexBinaryCount = 0;
+            byte[][] base64BinaryArray = new byte[0][]; int base64BinaryCount = 0;
+            java.util.Calendar[] dateArray = new java.util.Calendar[0]; int dateCount = 0;
+            java.util.Calendar[] dateTimeArray = new java.util.Calendar[0]; int dateTimeCount = 0;
+            java.util.Calendar[] gYearMonthArray = new java.util.Calendar[0]; int gYearMonthCount = 0;
+            org.apache.xmlbeans.GDuration[] durationArray = new org.apache.xmlbeans.GDuration[0]; int durationCount = 0;
+            javax.xml.namespace.QName[] qNameArray = new javax.xml.namespace.QName[0]; int qNameCount = 0;
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("int".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xintCount == xintArray.length)
+                    {
+                        int[] grown = new int[xintCount * 2 + 4];
+                        java.lang.System.arraycopy(xintArray, 0, grown, 0, xintCount);
+                        xintArray = grown;
+                    }
+                    xintArray[xintCount++] = reader.getIntValue();
+                }
+                else if ("short".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xshortCount == xshortArray.length)
+                    {
+                        short[] grown = new short[xshortCount * 2 + 4];
+                        java.lang.System.arraycopy(xshortArray, 0, grown, 0, xshortCount);
+                        xshortArray = grown;
+                    }
+                    xshortArray[xshortCount++] = reader.getShortValue();
+                }
+                else if ("byte".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xbyteCount == xbyteArray.length)
+                    {
+                        byte[] grown = new byte[xbyteCount * 2 + 4];
+                        java.lang.System.arraycopy(xbyteArray, 0, grown, 0, xbyteCount);
+                        xbyteArray = grown;
+                    }
+                    xbyteArray[xbyteCount++] = reader.getByteValue();
+                }
+                else if ("double".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xdoubleCount == xdoubleArray.length)
+                    {
+                        double[] grown = new double[xdoubleCount * 2 + 4];
+                        java.lang.System.arraycopy(xdoubleArray, 0, grown, 0, xdoubleCount);
+                        xdoubleArray = grown;
+                    }
+                    xdoubleArray[xdoubleCount++] = reader.getDoubleValue();
+                }
+                else if ("float".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xfloatCount == xfloatArray.length)
+                    {
+                        float[] grown = new float[xfloatCount * 2 + 4];
+                        java.lang.System.arraycopy(xfloatArray, 0, grown, 0, xfloatCount);
+                        xfloatArray = grown;
+                    }
+                    xfloatArray[xfloatCount++] = reader.getFloatValue();
+                }
+                else if ("boolean".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xbooleanCount == xbooleanArray.length)
+                    {
+                        boolean[] grown = new boolean[xbooleanCount * 2 + 4];
+                        java.lang.System.arraycopy(xbooleanArray, 0, grown, 0, xbooleanCount);
+                        xbooleanArray = grown;
+                    }
+                    xbooleanArray[xbooleanCount++] = reader.getBooleanValue();
+                }
+                else if ("string".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (stringCount == stringArray.length)
+                    {
+                        java.lang.String[] grown = new java.lang.String[stringCount * 2 + 4];
+                        java.lang.System.arraycopy(stringArray, 0, grown, 0, stringCount);
+                        stringArray = grown;
+                    }
+                    stringArray[stringCount++] = reader.getStringValue();
+                }
+                else if ("decimal".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (decimalCount == decimalArray.length)
+                    {
+                        java.math.BigDecimal[] grown = new java.math.BigDecimal[decimalCount * 2 + 4];
+                        java.lang.System.arraycopy(decimalArray, 0, grown, 0, decimalCount);
+                        decimalArray = grown;
+                    }
+                    decimalArray[decimalCount++] = reader.getBigDecimalValue();
+                }
+                else if ("integer".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (integerCount == integerArray.length)
+                    {
+                        java.math.BigInteger[] grown = new java.math.BigInteger[integerCount * 2 + 4];
+                        java.lang.System.arraycopy(integerArray, 0, grown, 0, integerCount);
+                        integerArray = grown;
+                    }
+                    integerArray[integerCount++] = reader.getBigIntegerValue();
+                }
+                else if ("long".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (xlongCount == xlongArray.length)
+                    {
+                        long[] grown = new long[xlongCount * 2 + 4];
+                        java.lang.System.arraycopy(xlongArray, 0, grown, 0, xlongCount);
+                        xlongArray = grown;
+                    }
+                    xlongArray[xlongCount++] = reader.getLongValue();
+                }
+                else if ("hexBinary".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (hexBinaryCount == hexBinaryArray.length)
+                    {
+                        byte[][] grown = new byte[hexBinaryCount * 2 + 4][];
+                        java.lang.System.arraycopy(hexBinaryArray, 0, grown, 0, hexBinaryCount);
+                        hexBinaryArray = grown;
+                    }
+                    hexBinaryArray[hexBinaryCount++] = org.apache.xmlbeans.impl.util.XsTypeConverter.lexHexBinary(reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE));
+                }
+                else if ("base64Binary".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (base64BinaryCount == base64BinaryArray.length)
+                    {
+                        byte[][] grown = new byte[base64BinaryCount * 2 + 4][];
+                        java.lang.System.arraycopy(base64BinaryArray, 0, grown, 0, base64BinaryCount);
+                        base64BinaryArray = grown;
+                    }
+                    base64BinaryArray[base64BinaryCount++] = org.apache.xmlbeans.impl.util.XsTypeConverter.lexBase64Binary(reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE));
+                }
+                else if ("date".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (dateCount == dateArray.length)
+                    {
+                        java.util.Calendar[] grown = new java.util.Calendar[dateCount * 2 + 4];
+                        java.lang.System.arraycopy(dateArray, 0, grown, 0, dateCount);
+                        dateArray = grown;
+                    }
+                    dateArray[dateCount++] = reader.getCalendarValue();
+                }
+                else if ("dateTime".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (dateTimeCount == dateTimeArray.length)
+                    {
+                        java.util.Calendar[] grown = new java.util.Calendar[dateTimeCount * 2 + 4];
+                        java.lang.System.arraycopy(dateTimeArray, 0, grown, 0, dateTimeCount);
+                        dateTimeArray = grown;
+                    }
+                    dateTimeArray[dateTimeCount++] = reader.getCalendarValue();
+                }
+                else if ("gYearMonth".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (gYearMonthCount == gYearMonthArray.length)
+                    {
+                        java.util.Calendar[] grown = new java.util.Calendar[gYearMonthCount * 2 + 4];
+                        java.lang.System.arraycopy(gYearMonthArray, 0, grown, 0, gYearMonthCount);
+                        gYearMonthArray = grown;
+                    }
+                    gYearMonthArray[gYearMonthCount++] = reader.getCalendarValue();
+                }
+                else if ("duration".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (durationCount == durationArray.length)
+                    {
+                        org.apache.xmlbeans.GDuration[] grown = new org.apache.xmlbeans.GDuration[durationCount * 2 + 4];
+                        java.lang.System.arraycopy(durationArray, 0, grown, 0, durationCount);
+                        durationArray = grown;
+                    }
+                    durationArray[durationCount++] = reader.getGDurationValue();
+                }
+                else if ("QName".equals(local) && "http://openuri.org/testNumerals".equals(uri))
+                {
+                    if (qNameCount == qNameArray.length)
+                    {
+                        javax.xml.namespace.QName[] grown = new javax.xml.namespace.QName[qNameCount * 2 + 4];
+                        java.lang.System.arraycopy(qNameArray, 0, grown, 0, qNameCount);
+                        qNameArray = grown;
+                    }
+                    qNameArray[qNameCount++] = reader.getQNameValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            
+            if (xintCount != xintArray.length)
+            {
+                result._int = new int[xintCount];
+                java.lang.System.arraycopy(xintArray, 0, result._int, 0, xintCount);
+            }
+            else
+                result._int = xintArray;
+            
+            if (xshortCount != xshortArray.length)
+            {
+                result._short = new short[xshortCount];
+                java.lang.System.arraycopy(xshortArray, 0, result._short, 0, xshortCount);
+            }
+            else
+                result._short = xshortArray;
+            
+            if (xbyteCount != xbyteArray.length)
+            {
+                result._byte = new byte[xbyteCount];
+                java.lang.System.arraycopy(xbyteArray, 0, result._byte, 0, xbyteCount);
+            }
+            else
+                result._byte = xbyteArray;
+            
+            if (xdoubleCount != xdoubleArray.length)
+            {
+                result._double = new double[xdoubleCount];
+                java.lang.System.arraycopy(xdoubleArray, 0, result._double, 0, xdoubleCount);
+            }
+            else
+                result._double = xdoubleArray;
+            
+            if (xfloatCount != xfloatArray.length)
+            {
+                result._float = new float[xfloatCount];
+                java.lang.System.arraycopy(xfloatArray, 0, result._float, 0, xfloatCount);
+            }
+            else
+                result._float = xfloatArray;
+            
+            if (xbooleanCount != xbooleanArray.length)
+            {
+                result._boolean = new boolean[xbooleanCount];
+                java.lang.System.arraycopy(xbooleanArray, 0, result._boolean, 0, xbooleanCount);
+            }
+            else
+                result._boolean = xbooleanArray;
+            
+            if (stringCount != stringArray.length)
+            {
+                result._string = new java.lang.String[stringCount];
+                java.lang.System.arraycopy(stringArray, 0, result._string, 0, stringCount);
+            }
+            else
+                result._string = stringArray;
+            
+            if (decimalCount != decimalArray.length)
+            {
+                result._decimal = new java.math.BigDecimal[decimalCount];
+                java.lang.System.arraycopy(decimalArray, 0, result._decimal, 0, decimalCount);
+            }
+            else
+                result._decimal = decimalArray;
+            
+            if (integerCount != integerArray.length)
+            {
+                result._integer = new java.math.BigInteger[integerCount];
+                java.lang.System.arraycopy(integerArray, 0, result._integer, 0, integerCount);
+            }
+            else
+                result._integer = integerArray;
+            
+            if (xlongCount != xlongArray.length)
+            {
+                result._long = new long[xlongCount];
+                java.lang.System.arraycopy(xlongArray, 0, result._long, 0, xlongCount);
+            }
+            else
+                result._long = xlongArray;
+            
+            if (hexBinaryCount != hexBinaryArray.length)
+            {
+                result._hexBinary = new byte[hexBinaryCount][];
+                java.lang.System.arraycopy(hexBinaryArray, 0, result._hexBinary, 0, hexBinaryCount);
+            }
+            else
+                result._hexBinary = hexBinaryArray;
+            
+            if (base64BinaryCount != base64BinaryArray.length)
+            {
+                result._base64Binary = new byte[base64BinaryCount][];
+                java.lang.System.arraycopy(base64BinaryArray, 0, result._base64Binary, 0, base64BinaryCount);
+            }
+            else
+                result._base64Binary = base64BinaryArray;
+            
+            if (dateCount != dateArray.length)
+            {
+                result._date = new java.util.Calendar[dateCount];
+                java.lang.System.arraycopy(dateArray, 0, result._date, 0, dateCount);
+            }
+            else
+                result._date = dateArray;
+            
+            if (dateTimeCount != dateTimeArray.length)
+            {
+                result._dateTime = new java.util.Calendar[dateTimeCount];
+                java.lang.System.arraycopy(dateTimeArray, 0, result._dateTime, 0, dateTimeCount);
+            }
+            else
+                result._dateTime = dateTimeArray;
+            
+            if (gYearMonthCount != gYearMonthArray.length)
+            {
+                result._gYearMonth = new java.util.Calendar[gYearMonthCount];
+                java.lang.System.arraycopy(gYearMonthArray, 0, result._gYearMonth, 0, gYearMonthCount);
+            }
+            else
+                result._gYearMonth = gYearMonthArray;
+            
+            if (durationCount != durationArray.length)
+            {
+                result._duration = new org.apache.xmlbeans.GDuration[durationCount];
+                java.lang.System.arraycopy(durationArray, 0, result._duration, 0, durationCount);
+            }
+            else
+                result._duration = durationArray;
+            
+            if (qNameCount != qNameArray.length)
+            {
+                result._qName = new javax.xml.namespace.QName[qNameCount];
+                java.lang.System.arraycopy(qNameArray, 0, result._qName, 0, qNameCount);
+            }
+            else
+                result._qName = qNameArray;
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            if (this._int != null)
+            {
+                for (int i = 0; i < this._int.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "int", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._int[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._short != null)
+            {
+                for (int i = 0; i < this._short.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "short", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printShort(this._short[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._byte != null)
+            {
+                for (int i = 0; i < this._byte.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "byte", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printByte(this._byte[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._double != null)
+            {
+                for (int i = 0; i < this._double.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "double", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printDouble(this._double[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._float != null)
+            {
+                for (int i = 0; i < this._float.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "float", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printFloat(this._float[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._boolean != null)
+            {
+                for (int i = 0; i < this._boolean.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "boolean", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printBoolean(this._boolean[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._string != null)
+            {
+                for (int i = 0; i < this._string.length; i++)
+                {
+                    if (this._string[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "string", ns);
+                        writer.writeCharacters(this._string[i]);
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._decimal != null)
+            {
+                for (int i = 0; i < this._decimal.length; i++)
+                {
+                    if (this._decimal[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "decimal", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printDecimal(this._decimal[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._integer != null)
+            {
+                for (int i = 0; i < this._integer.length; i++)
+                {
+                    if (this._integer[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "integer", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._integer[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._long != null)
+            {
+                for (int i = 0; i < this._long.length; i++)
+                {
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "long", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printLong(this._long[i]));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._hexBinary != null)
+            {
+                for (int i = 0; i < this._hexBinary.length; i++)
+                {
+                    if (this._hexBinary[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "hexBinary", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printHexBinary(this._hexBinary[i]).toString());
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._base64Binary != null)
+            {
+                for (int i = 0; i < this._base64Binary.length; i++)
+                {
+                    if (this._base64Binary[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "base64Binary", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printBase64Binary(this._base64Binary[i]).toString());
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._date != null)
+            {
+                for (int i = 0; i < this._date.length; i++)
+                {
+                    if (this._date[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "date", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._date[i], 16));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._dateTime != null)
+            {
+                for (int i = 0; i < this._dateTime.length; i++)
+                {
+                    if (this._dateTime[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "dateTime", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._dateTime[i], 14));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._gYearMonth != null)
+            {
+                for (int i = 0; i < this._gYearMonth.length; i++)
+                {
+                    if (this._gYearMonth[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "gYearMonth", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._gYearMonth[i], 17));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._duration != null)
+            {
+                for (int i = 0; i < this._duration.length; i++)
+                {
+                    if (this._duration[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "duration", ns);
+                        writer.writeCharacters(this._duration[i].toString());
+                        writer.writeEndElement();
+                    }
+                }
+            }
+            if (this._qName != null)
+            {
+                for (int i = 0; i < this._qName.length; i++)
+                {
+                    if (this._qName[i] != null)
+                    {
+                        org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/testNumerals", "QName", ns);
+                        writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printQName(writer, this._qName[i], "http://openuri.org/testNumerals"));
+                        writer.writeEndElement();
+                    }
+                }
+            }
+        }
+    }
+}
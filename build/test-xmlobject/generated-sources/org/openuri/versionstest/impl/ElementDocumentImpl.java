@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: element
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.ElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.impl;
+/**
+ * A document containing one element(@http://openuri.org/versionstest) element.
+ *
+ * This is a complex type.
+ */
+public class ElementDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.versionstest.ElementDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElementDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELEMENT$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/versionstest", "element");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1662836996:
+                if (name.equals(ELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "element" element
+     */
+    public org.openuri.versionstest.TypeX getElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.versionstest.TypeX target = null;
+            target = (org.openuri.versionstest.TypeX)get_store().find_element_user(ELEMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "element" element
+     */
+    public void setElement(org.openuri.versionstest.TypeX element)
+    {
+        generatedSetterHelperImpl(element, ELEMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "element" element
+     */
+    public org.openuri.versionstest.TypeX addNewElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.versionstest.TypeX target = null;
+            target = (org.openuri.versionstest.TypeX)get_store().add_element_user(ELEMENT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * XML Type:  type
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.Type
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.impl;
+/**
+ * An XML type(@http://openuri.org/versionstest).
+ *
+ * This is a complex type.
+ */
+public class TypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.versionstest.Type
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AA$0 = 
+        new javax.xml.namespace.QName("", "aa");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3104:
+                if (name.equals(AA$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "aa" element
+     */
+    public java.lang.String getAa()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "aa" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAa()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AA$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "aa" element
+     */
+    public void setAa(java.lang.String aa)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AA$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AA$0);
+            }
+            target.setStringValue(aa);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "aa" element
+     */
+    public void xsetAa(org.apache.xmlbeans.XmlString aa)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AA$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AA$0);
+            }
+            target.set(aa);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * XML Type:  typeX
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.TypeX
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.impl;
+/**
+ * An XML typeX(@http://openuri.org/versionstest).
+ *
+ * This is a complex type.
+ */
+public class TypeXImpl extends org.openuri.versionstest.impl.TypeImpl implements org.openuri.versionstest.TypeX
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TypeXImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName C$0 = 
+        new javax.xml.namespace.QName("", "c");
+    private static final javax.xml.namespace.QName B$2 = 
+        new javax.xml.namespace.QName("", "b");
+    private static final javax.xml.namespace.QName A$4 = 
+        new javax.xml.namespace.QName("", "a");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 97:
+                if (name.equals(A$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 98:
+                if (name.equals(B$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 99:
+                if (name.equals(C$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "c" element
+     */
+    public java.lang.String getC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "c" element
+     */
+    public org.apache.xmlbeans.XmlString xgetC()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(C$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "c" element
+     */
+    public void setC(java.lang.String c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(C$0);
+            }
+            target.setStringValue(c);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "c" element
+     */
+    public void xsetC(org.apache.xmlbeans.XmlString c)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(C$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(C$0);
+            }
+            target.set(c);
+        }
+    }
+    
+    /**
+     * Gets the "b" element
+     */
+    public java.lang.String getB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "b" element
+     */
+    public org.apache.xmlbeans.XmlString xgetB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "b" element
+     */
+    public void setB(java.lang.String b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(B$2);
+            }
+            target.setStringValue(b);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "b" element
+     */
+    public void xsetB(org.apache.xmlbeans.XmlString b)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(B$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(B$2);
+            }
+            target.set(b);
+        }
+    }
+    
+    /**
+     * Gets the "a" element
+     */
+    public java.lang.String getA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a" element
+     */
+    public org.apache.xmlbeans.XmlString xgetA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a" element
+     */
+    public void setA(java.lang.String a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(A$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(A$4);
+            }
+            target.setStringValue(a);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a" element
+     */
+    public void xsetA(org.apache.xmlbeans.XmlString a)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(A$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(A$4);
+            }
+            target.set(a);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: element
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.pojo.ElementDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.pojo;
+
+/**
+ * A document containing one element(@http://openuri.org/versionstest) element.
+ *
+ * This is a plain Java binding of org.openuri.versionstest.ElementDocument.
+ */
+public class ElementDocument
+{
+    private org.openuri.versionstest.pojo.TypeX _element;
+    
+    /**
+     * Gets the "element" element
+     */
+    public org.openuri.versionstest.pojo.TypeX getElement()
+    {
+        return _element;
+    }
+    
+    /**
+     * Sets the "element" element
+     */
+    public void setElement(org.openuri.versionstest.pojo.TypeX element)
+    {
+        this._element = element;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be element(@http://openuri.org/versionstest), and leaves the reader on the end of
+     * that element.
+     */
+    public static ElementDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ElementDocument result = new ElementDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://openuri.org/versionstest", "element");
+        {
+            result._element = org.openuri.versionstest.pojo.TypeX.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ElementDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ElementDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ElementDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._element != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://openuri.org/versionstest", "element", ns);
+            this._element.write(writer, "http://openuri.org/versionstest");
+            writer.writeEndElement();
+        }
+    }
+}
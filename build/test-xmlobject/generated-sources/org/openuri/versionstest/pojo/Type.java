@@ -0,0 +1,75 @@
+/*
+ * XML Type:  type
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.pojo.Type
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.pojo;
+
+/**
+ * An XML type(@http://openuri.org/versionstest).
+ *
+ * This is a plain Java binding of org.openuri.versionstest.Type.
+ */
+public class Type
+{
+    private java.lang.String _aa;
+    
+    /**
+     * Gets the "aa" element
+     */
+    public java.lang.String getAa()
+    {
+        return _aa;
+    }
+    
+    /**
+     * Sets the "aa" element
+     */
+    public void setAa(java.lang.String aa)
+    {
+        this._aa = aa;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Type read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Type result = new Type();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("aa".equals(local) && "".equals(uri))
+            {
+                result._aa = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._aa != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "aa", ns);
+            writer.writeCharacters(this._aa);
+            writer.writeEndElement();
+        }
+    }
+}
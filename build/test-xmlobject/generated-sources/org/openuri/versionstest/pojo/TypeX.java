@@ -0,0 +1,156 @@
+/*
+ * XML Type:  typeX
+ * Namespace: http://openuri.org/versionstest
+ * Java type: org.openuri.versionstest.pojo.TypeX
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.versionstest.pojo;
+
+/**
+ * An XML typeX(@http://openuri.org/versionstest).
+ *
+ * This is a plain Java binding of org.openuri.versionstest.TypeX.
+ */
+public class TypeX
+{
+    private java.lang.String _aa;
+    private java.lang.String _a;
+    private java.lang.String _b;
+    private java.lang.String _c;
+    
+    /**
+     * Gets the "aa" element
+     */
+    public java.lang.String getAa()
+    {
+        return _aa;
+    }
+    
+    /**
+     * Sets the "aa" element
+     */
+    public void setAa(java.lang.String aa)
+    {
+        this._aa = aa;
+    }
+    
+    /**
+     * Gets the "a" element
+     */
+    public java.lang.String getA()
+    {
+        return _a;
+    }
+    
+    /**
+     * Sets the "a" element
+     */
+    public void setA(java.lang.String a)
+    {
+        this._a = a;
+    }
+    
+    /**
+     * Gets the "b" element
+     */
+    public java.lang.String getB()
+    {
+        return _b;
+    }
+    
+    /**
+     * Sets the "b" element
+     */
+    public void setB(java.lang.String b)
+    {
+        this._b = b;
+    }
+    
+    /**
+     * Gets the "c" element
+     */
+    public java.lang.String getC()
+    {
+        return _c;
+    }
+    
+    /**
+     * Sets the "c" element
+     */
+    public void setC(java.lang.String c)
+    {
+        this._c = c;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static TypeX read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TypeX result = new TypeX();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("aa".equals(local) && "".equals(uri))
+            {
+                result._aa = reader.getStringValue();
+            }
+            else if ("a".equals(local) && "".equals(uri))
+            {
+                result._a = reader.getStringValue();
+            }
+            else if ("b".equals(local) && "".equals(uri))
+            {
+                result._b = reader.getStringValue();
+            }
+            else if ("c".equals(local) && "".equals(uri))
+            {
+                result._c = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._aa != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "aa", ns);
+            writer.writeCharacters(this._aa);
+            writer.writeEndElement();
+        }
+        if (this._a != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "a", ns);
+            writer.writeCharacters(this._a);
+            writer.writeEndElement();
+        }
+        if (this._b != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "b", ns);
+            writer.writeCharacters(this._b);
+            writer.writeEndElement();
+        }
+        if (this._c != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "c", ns);
+            writer.writeCharacters(this._c);
+            writer.writeEndElement();
+        }
+    }
+}
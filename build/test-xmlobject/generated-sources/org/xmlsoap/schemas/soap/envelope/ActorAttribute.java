@@ -0,0 +1,127 @@
+/*
+ * An XML attribute type.
+ * Localname: actor
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.ActorAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope;
+
+
+/**
+ * A document containing one actor(@http://schemas.xmlsoap.org/soap/envelope/) attribute.
+ *
+ * This is a complex type.
+ */
+public interface ActorAttribute extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ActorAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("actorc0aaattrtypetype");
+    
+    /**
+     * Gets the "actor" attribute
+     */
+    java.lang.String getActor();
+    
+    /**
+     * Gets (as xml) the "actor" attribute
+     */
+    org.apache.xmlbeans.XmlAnyURI xgetActor();
+    
+    /**
+     * True if has "actor" attribute
+     */
+    boolean isSetActor();
+    
+    /**
+     * Sets the "actor" attribute
+     */
+    void setActor(java.lang.String actor);
+    
+    /**
+     * Sets (as xml) the "actor" attribute
+     */
+    void xsetActor(org.apache.xmlbeans.XmlAnyURI actor);
+    
+    /**
+     * Unsets the "actor" attribute
+     */
+    void unsetActor();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute newInstance() {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.xmlsoap.schemas.soap.envelope.ActorAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.xmlsoap.schemas.soap.envelope.ActorAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  encodingStyle
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.EncodingStyle
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.impl;
+/**
+ * An XML encodingStyle(@http://schemas.xmlsoap.org/soap/envelope/).
+ *
+ * This is a list type whose items are org.apache.xmlbeans.XmlAnyURI.
+ */
+public class EncodingStyleImpl extends org.apache.xmlbeans.impl.values.XmlListImpl implements org.xmlsoap.schemas.soap.envelope.EncodingStyle
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EncodingStyleImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EncodingStyleImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
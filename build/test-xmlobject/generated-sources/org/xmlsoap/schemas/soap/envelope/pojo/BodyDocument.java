@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Body
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.pojo.BodyDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.pojo;
+
+/**
+ * A document containing one Body(@http://schemas.xmlsoap.org/soap/envelope/) element.
+ *
+ * This is a plain Java binding of org.xmlsoap.schemas.soap.envelope.BodyDocument.
+ */
+public class BodyDocument
+{
+    private org.xmlsoap.schemas.soap.envelope.pojo.Body _body;
+    
+    /**
+     * Gets the "Body" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Body getBody()
+    {
+        return _body;
+    }
+    
+    /**
+     * Sets the "Body" element
+     */
+    public void setBody(org.xmlsoap.schemas.soap.envelope.pojo.Body body)
+    {
+        this._body = body;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Body(@http://schemas.xmlsoap.org/soap/envelope/), and leaves the reader on the end of
+     * that element.
+     */
+    public static BodyDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BodyDocument result = new BodyDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://schemas.xmlsoap.org/soap/envelope/", "Body");
+        {
+            result._body = org.xmlsoap.schemas.soap.envelope.pojo.Body.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BodyDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BodyDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BodyDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._body != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://schemas.xmlsoap.org/soap/envelope/", "Body", ns);
+            this._body.write(writer, "http://schemas.xmlsoap.org/soap/envelope/");
+            writer.writeEndElement();
+        }
+    }
+}
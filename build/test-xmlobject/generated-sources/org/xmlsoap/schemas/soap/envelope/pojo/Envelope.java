@@ -0,0 +1,102 @@
+/*
+ * XML Type:  Envelope
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.pojo.Envelope
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.pojo;
+
+/**
+ * An XML Envelope(@http://schemas.xmlsoap.org/soap/envelope/).
+ *
+ * This is a plain Java binding of org.xmlsoap.schemas.soap.envelope.Envelope.
+ */
+public class Envelope
+{
+    private org.xmlsoap.schemas.soap.envelope.pojo.Header _header;
+    private org.xmlsoap.schemas.soap.envelope.pojo.Body _body;
+    
+    /**
+     * Gets the "Header" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Header getHeader()
+    {
+        return _header;
+    }
+    
+    /**
+     * Sets the "Header" element
+     */
+    public void setHeader(org.xmlsoap.schemas.soap.envelope.pojo.Header header)
+    {
+        this._header = header;
+    }
+    
+    /**
+     * Gets the "Body" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Body getBody()
+    {
+        return _body;
+    }
+    
+    /**
+     * Sets the "Body" element
+     */
+    public void setBody(org.xmlsoap.schemas.soap.envelope.pojo.Body body)
+    {
+        this._body = body;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Envelope read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Envelope result = new Envelope();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("Header".equals(local) && "http://schemas.xmlsoap.org/soap/envelope/".equals(uri))
+            {
+                result._header = org.xmlsoap.schemas.soap.envelope.pojo.Header.read(reader);
+            }
+            else if ("Body".equals(local) && "http://schemas.xmlsoap.org/soap/envelope/".equals(uri))
+            {
+                result._body = org.xmlsoap.schemas.soap.envelope.pojo.Body.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._header != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://schemas.xmlsoap.org/soap/envelope/", "Header", ns);
+            this._header.write(writer, "http://schemas.xmlsoap.org/soap/envelope/");
+            writer.writeEndElement();
+        }
+        if (this._body != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://schemas.xmlsoap.org/soap/envelope/", "Body", ns);
+            this._body.write(writer, "http://schemas.xmlsoap.org/soap/envelope/");
+            writer.writeEndElement();
+        }
+    }
+}
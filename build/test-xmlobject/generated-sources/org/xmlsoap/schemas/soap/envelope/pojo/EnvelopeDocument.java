@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Envelope
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.pojo.EnvelopeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.pojo;
+
+/**
+ * A document containing one Envelope(@http://schemas.xmlsoap.org/soap/envelope/) element.
+ *
+ * This is a plain Java binding of org.xmlsoap.schemas.soap.envelope.EnvelopeDocument.
+ */
+public class EnvelopeDocument
+{
+    private org.xmlsoap.schemas.soap.envelope.pojo.Envelope _envelope;
+    
+    /**
+     * Gets the "Envelope" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Envelope getEnvelope()
+    {
+        return _envelope;
+    }
+    
+    /**
+     * Sets the "Envelope" element
+     */
+    public void setEnvelope(org.xmlsoap.schemas.soap.envelope.pojo.Envelope envelope)
+    {
+        this._envelope = envelope;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Envelope(@http://schemas.xmlsoap.org/soap/envelope/), and leaves the reader on the end of
+     * that element.
+     */
+    public static EnvelopeDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        EnvelopeDocument result = new EnvelopeDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://schemas.xmlsoap.org/soap/envelope/", "Envelope");
+        {
+            result._envelope = org.xmlsoap.schemas.soap.envelope.pojo.Envelope.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static EnvelopeDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static EnvelopeDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static EnvelopeDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._envelope != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://schemas.xmlsoap.org/soap/envelope/", "Envelope", ns);
+            this._envelope.write(writer, "http://schemas.xmlsoap.org/soap/envelope/");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  Fault
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.pojo.Fault
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.pojo;
+
+/**
+ * An XML Fault(@http://schemas.xmlsoap.org/soap/envelope/).
+ *
+ * This is a plain Java binding of org.xmlsoap.schemas.soap.envelope.Fault.
+ */
+public class Fault
+{
+    private javax.xml.namespace.QName _faultcode;
+    private java.lang.String _faultstring;
+    private java.lang.String _faultactor;
+    private org.xmlsoap.schemas.soap.envelope.pojo.Detail _detail;
+    
+    /**
+     * Gets the "faultcode" element
+     */
+    public javax.xml.namespace.QName getFaultcode()
+    {
+        return _faultcode;
+    }
+    
+    /**
+     * Sets the "faultcode" element
+     */
+    public void setFaultcode(javax.xml.namespace.QName faultcode)
+    {
+        this._faultcode = faultcode;
+    }
+    
+    /**
+     * Gets the "faultstring" element
+     */
+    public java.lang.String getFaultstring()
+    {
+        return _faultstring;
+    }
+    
+    /**
+     * Sets the "faultstring" element
+     */
+    public void setFaultstring(java.lang.String faultstring)
+    {
+        this._faultstring = faultstring;
+    }
+    
+    /**
+     * Gets the "faultactor" element
+     */
+    public java.lang.String getFaultactor()
+    {
+        return _faultactor;
+    }
+    
+    /**
+     * Sets the "faultactor" element
+     */
+    public void setFaultactor(java.lang.String faultactor)
+    {
+        this._faultactor = faultactor;
+    }
+    
+    /**
+     * Gets the "detail" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Detail getDetail()
+    {
+        return _detail;
+    }
+    
+    /**
+     * Sets the "detail" element
+     */
+    public void setDetail(org.xmlsoap.schemas.soap.envelope.pojo.Detail detail)
+    {
+        this._detail = detail;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Fault read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Fault result = new Fault();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("faultcode".equals(local) && "".equals(uri))
+            {
+                result._faultcode = reader.getQNameValue();
+            }
+            else if ("faultstring".equals(local) && "".equals(uri))
+            {
+                result._faultstring = reader.getStringValue();
+            }
+            else if ("faultactor".equals(local) && "".equals(uri))
+            {
+                result._faultactor = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("detail".equals(local) && "".equals(uri))
+            {
+                result._detail = org.xmlsoap.schemas.soap.envelope.pojo.Detail.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._faultcode != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "faultcode", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printQName(writer, this._faultcode, ""));
+            writer.writeEndElement();
+        }
+        if (this._faultstring != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "faultstring", ns);
+            writer.writeCharacters(this._faultstring);
+            writer.writeEndElement();
+        }
+        if (this._faultactor != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "faultactor", ns);
+            writer.writeCharacters(this._faultactor);
+            writer.writeEndElement();
+        }
+        if (this._detail != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "detail", ns);
+            this._detail.write(writer, "");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: Header
+ * Namespace: http://schemas.xmlsoap.org/soap/envelope/
+ * Java type: org.xmlsoap.schemas.soap.envelope.pojo.HeaderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.xmlsoap.schemas.soap.envelope.pojo;
+
+/**
+ * A document containing one Header(@http://schemas.xmlsoap.org/soap/envelope/) element.
+ *
+ * This is a plain Java binding of org.xmlsoap.schemas.soap.envelope.HeaderDocument.
+ */
+public class HeaderDocument
+{
+    private org.xmlsoap.schemas.soap.envelope.pojo.Header _header;
+    
+    /**
+     * Gets the "Header" element
+     */
+    public org.xmlsoap.schemas.soap.envelope.pojo.Header getHeader()
+    {
+        return _header;
+    }
+    
+    /**
+     * Sets the "Header" element
+     */
+    public void setHeader(org.xmlsoap.schemas.soap.envelope.pojo.Header header)
+    {
+        this._header = header;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be Header(@http://schemas.xmlsoap.org/soap/envelope/), and leaves the reader on the end of
+     * that element.
+     */
+    public static HeaderDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        HeaderDocument result = new HeaderDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://schemas.xmlsoap.org/soap/envelope/", "Header");
+        {
+            result._header = org.xmlsoap.schemas.soap.envelope.pojo.Header.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static HeaderDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static HeaderDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static HeaderDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._header != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://schemas.xmlsoap.org/soap/envelope/", "Header", ns);
+            this._header.write(writer, "http://schemas.xmlsoap.org/soap/envelope/");
+            writer.writeEndElement();
+        }
+    }
+}
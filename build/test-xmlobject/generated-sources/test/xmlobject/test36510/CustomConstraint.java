@@ -0,0 +1,216 @@
+/*
+ * XML Type:  customConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.CustomConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510;
+
+
+/**
+ * An XML customConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public interface CustomConstraint extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(CustomConstraint.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("customconstraint8532type");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    java.lang.String[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    java.lang.String getDescriptionArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "description" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetDescriptionArray();
+    
+    /**
+     * Gets (as xml) ith "description" element
+     */
+    org.apache.xmlbeans.XmlString xgetDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(java.lang.String[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, java.lang.String description);
+    
+    /**
+     * Sets (as xml) array of all "description" element
+     */
+    void xsetDescriptionArray(org.apache.xmlbeans.XmlString[] descriptionArray);
+    
+    /**
+     * Sets (as xml) ith "description" element
+     */
+    void xsetDescriptionArray(int i, org.apache.xmlbeans.XmlString description);
+    
+    /**
+     * Inserts the value as the ith "description" element
+     */
+    void insertDescription(int i, java.lang.String description);
+    
+    /**
+     * Appends the value as the last "description" element
+     */
+    void addDescription(java.lang.String description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    org.apache.xmlbeans.XmlString insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    org.apache.xmlbeans.XmlString addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets the "options" element
+     */
+    test.xmlobject.test36510.EnumType.Enum getOptions();
+    
+    /**
+     * Gets (as xml) the "options" element
+     */
+    test.xmlobject.test36510.EnumType xgetOptions();
+    
+    /**
+     * Sets the "options" element
+     */
+    void setOptions(test.xmlobject.test36510.EnumType.Enum options);
+    
+    /**
+     * Sets (as xml) the "options" element
+     */
+    void xsetOptions(test.xmlobject.test36510.EnumType options);
+    
+    /**
+     * Gets the "id" attribute
+     */
+    java.lang.String getId();
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetId();
+    
+    /**
+     * True if has "id" attribute
+     */
+    boolean isSetId();
+    
+    /**
+     * Sets the "id" attribute
+     */
+    void setId(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    void xsetId(org.apache.xmlbeans.XmlString id);
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    void unsetId();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xmlobject.test36510.CustomConstraint newInstance() {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xmlobject.test36510.CustomConstraint parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xmlobject.test36510.CustomConstraint parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.CustomConstraint parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.CustomConstraint parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.CustomConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * XML Type:  test36510-appType
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.Test36510AppType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510;
+
+
+/**
+ * An XML test36510-appType(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public interface Test36510AppType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Test36510AppType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("test36510apptype90fftype");
+    
+    /**
+     * Gets array of all "testConstraint" elements
+     */
+    test.xmlobject.test36510.TestConstraint[] getTestConstraintArray();
+    
+    /**
+     * Gets ith "testConstraint" element
+     */
+    test.xmlobject.test36510.TestConstraint getTestConstraintArray(int i);
+    
+    /**
+     * Returns number of "testConstraint" element
+     */
+    int sizeOfTestConstraintArray();
+    
+    /**
+     * Sets array of all "testConstraint" element
+     */
+    void setTestConstraintArray(test.xmlobject.test36510.TestConstraint[] testConstraintArray);
+    
+    /**
+     * Sets ith "testConstraint" element
+     */
+    void setTestConstraintArray(int i, test.xmlobject.test36510.TestConstraint testConstraint);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "testConstraint" element
+     */
+    test.xmlobject.test36510.TestConstraint insertNewTestConstraint(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "testConstraint" element
+     */
+    test.xmlobject.test36510.TestConstraint addNewTestConstraint();
+    
+    /**
+     * Removes the ith "testConstraint" element
+     */
+    void removeTestConstraint(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xmlobject.test36510.Test36510AppType newInstance() {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xmlobject.test36510.Test36510AppType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xmlobject.test36510.Test36510AppType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.Test36510AppType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.Test36510AppType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.Test36510AppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
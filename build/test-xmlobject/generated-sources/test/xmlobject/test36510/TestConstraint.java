@@ -0,0 +1,221 @@
+/*
+ * XML Type:  testConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.TestConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510;
+
+
+/**
+ * An XML testConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public interface TestConstraint extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TestConstraint.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("testconstraint4b53type");
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    java.lang.String[] getDisplayNameArray();
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    java.lang.String getDisplayNameArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "display-name" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetDisplayNameArray();
+    
+    /**
+     * Gets (as xml) ith "display-name" element
+     */
+    org.apache.xmlbeans.XmlString xgetDisplayNameArray(int i);
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    int sizeOfDisplayNameArray();
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    void setDisplayNameArray(java.lang.String[] displayNameArray);
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    void setDisplayNameArray(int i, java.lang.String displayName);
+    
+    /**
+     * Sets (as xml) array of all "display-name" element
+     */
+    void xsetDisplayNameArray(org.apache.xmlbeans.XmlString[] displayNameArray);
+    
+    /**
+     * Sets (as xml) ith "display-name" element
+     */
+    void xsetDisplayNameArray(int i, org.apache.xmlbeans.XmlString displayName);
+    
+    /**
+     * Inserts the value as the ith "display-name" element
+     */
+    void insertDisplayName(int i, java.lang.String displayName);
+    
+    /**
+     * Appends the value as the last "display-name" element
+     */
+    void addDisplayName(java.lang.String displayName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    org.apache.xmlbeans.XmlString insertNewDisplayName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    org.apache.xmlbeans.XmlString addNewDisplayName();
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    void removeDisplayName(int i);
+    
+    /**
+     * Gets the "customConstraint" element
+     */
+    test.xmlobject.test36510.CustomConstraint getCustomConstraint();
+    
+    /**
+     * True if has "customConstraint" element
+     */
+    boolean isSetCustomConstraint();
+    
+    /**
+     * Sets the "customConstraint" element
+     */
+    void setCustomConstraint(test.xmlobject.test36510.CustomConstraint customConstraint);
+    
+    /**
+     * Appends and returns a new empty "customConstraint" element
+     */
+    test.xmlobject.test36510.CustomConstraint addNewCustomConstraint();
+    
+    /**
+     * Unsets the "customConstraint" element
+     */
+    void unsetCustomConstraint();
+    
+    /**
+     * Gets the "id" attribute
+     */
+    java.lang.String getId();
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetId();
+    
+    /**
+     * True if has "id" attribute
+     */
+    boolean isSetId();
+    
+    /**
+     * Sets the "id" attribute
+     */
+    void setId(java.lang.String id);
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    void xsetId(org.apache.xmlbeans.XmlString id);
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    void unsetId();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static test.xmlobject.test36510.TestConstraint newInstance() {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static test.xmlobject.test36510.TestConstraint parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static test.xmlobject.test36510.TestConstraint parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.TestConstraint parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static test.xmlobject.test36510.TestConstraint parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (test.xmlobject.test36510.TestConstraint) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * XML Type:  customConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.CustomConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * An XML customConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public class CustomConstraintImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xmlobject.test36510.CustomConstraint
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CustomConstraintImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "description");
+    private static final javax.xml.namespace.QName OPTIONS$2 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "options");
+    private static final javax.xml.namespace.QName ID$4 = 
+        new javax.xml.namespace.QName("", "id");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1249474914:
+                if (name.equals(OPTIONS$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public java.lang.String[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public java.lang.String getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "description" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "description" element
+     */
+    public org.apache.xmlbeans.XmlString xgetDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element
+     */
+    public void setDescriptionArray(java.lang.String[] descriptionArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(descriptionArray, DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, java.lang.String description)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(description);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "description" element
+     */
+    public void xsetDescriptionArray(org.apache.xmlbeans.XmlString[]descriptionArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(descriptionArray, DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "description" element
+     */
+    public void xsetDescriptionArray(int i, org.apache.xmlbeans.XmlString description)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(description);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "description" element
+     */
+    public void insertDescription(int i, java.lang.String description)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DESCRIPTION$0, i);
+            target.setStringValue(description);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "description" element
+     */
+    public void addDescription(java.lang.String description)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTION$0);
+            target.setStringValue(description);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public org.apache.xmlbeans.XmlString addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "options" element
+     */
+    public test.xmlobject.test36510.EnumType.Enum getOptions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTIONS$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (test.xmlobject.test36510.EnumType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "options" element
+     */
+    public test.xmlobject.test36510.EnumType xgetOptions()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.EnumType target = null;
+            target = (test.xmlobject.test36510.EnumType)get_store().find_element_user(OPTIONS$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "options" element
+     */
+    public void setOptions(test.xmlobject.test36510.EnumType.Enum options)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(OPTIONS$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(OPTIONS$2);
+            }
+            target.setEnumValue(options);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "options" element
+     */
+    public void xsetOptions(test.xmlobject.test36510.EnumType options)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.EnumType target = null;
+            target = (test.xmlobject.test36510.EnumType)get_store().find_element_user(OPTIONS$2, 0);
+            if (target == null)
+            {
+                target = (test.xmlobject.test36510.EnumType)get_store().add_element_user(OPTIONS$2);
+            }
+            target.set(options);
+        }
+    }
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.String getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ID$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id" attribute
+     */
+    public boolean isSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$4);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    public void xsetId(org.apache.xmlbeans.XmlString id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ID$4);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    public void unsetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID$4);
+        }
+    }
+}
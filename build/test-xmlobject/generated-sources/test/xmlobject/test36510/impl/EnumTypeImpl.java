@@ -0,0 +1,27 @@
+/*
+ * XML Type:  enumType
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.EnumType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * An XML enumType(@http://test/xmlobject/test36510).
+ *
+ * This is an atomic type that is a restriction of test.xmlobject.test36510.EnumType.
+ */
+public class EnumTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements test.xmlobject.test36510.EnumType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnumTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EnumTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
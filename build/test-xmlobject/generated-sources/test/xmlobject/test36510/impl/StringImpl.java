@@ -0,0 +1,27 @@
+/*
+ * XML Type:  string
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.String
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * An XML string(@http://test/xmlobject/test36510).
+ *
+ * This is an atomic type that is a restriction of test.xmlobject.test36510.String.
+ */
+public class StringImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements test.xmlobject.test36510.String
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StringImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected StringImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
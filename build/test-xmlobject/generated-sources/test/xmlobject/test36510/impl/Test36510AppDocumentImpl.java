@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: test36510-app
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.Test36510AppDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * A document containing one test36510-app(@http://test/xmlobject/test36510) element.
+ *
+ * This is a complex type.
+ */
+public class Test36510AppDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xmlobject.test36510.Test36510AppDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Test36510AppDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST36510APP$0 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "test36510-app");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1838966227:
+                if (name.equals(TEST36510APP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "test36510-app" element
+     */
+    public test.xmlobject.test36510.Test36510AppType getTest36510App()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.Test36510AppType target = null;
+            target = (test.xmlobject.test36510.Test36510AppType)get_store().find_element_user(TEST36510APP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "test36510-app" element
+     */
+    public void setTest36510App(test.xmlobject.test36510.Test36510AppType test36510App)
+    {
+        generatedSetterHelperImpl(test36510App, TEST36510APP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "test36510-app" element
+     */
+    public test.xmlobject.test36510.Test36510AppType addNewTest36510App()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.Test36510AppType target = null;
+            target = (test.xmlobject.test36510.Test36510AppType)get_store().add_element_user(TEST36510APP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  test36510-appType
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.Test36510AppType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * An XML test36510-appType(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public class Test36510AppTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xmlobject.test36510.Test36510AppType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Test36510AppTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TESTCONSTRAINT$0 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "testConstraint");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -904386545:
+                if (name.equals(TESTCONSTRAINT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "testConstraint" elements
+     */
+    public test.xmlobject.test36510.TestConstraint[] getTestConstraintArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TESTCONSTRAINT$0, targetList);
+            test.xmlobject.test36510.TestConstraint[] result = new test.xmlobject.test36510.TestConstraint[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "testConstraint" element
+     */
+    public test.xmlobject.test36510.TestConstraint getTestConstraintArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.TestConstraint target = null;
+            target = (test.xmlobject.test36510.TestConstraint)get_store().find_element_user(TESTCONSTRAINT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "testConstraint" element
+     */
+    public int sizeOfTestConstraintArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TESTCONSTRAINT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "testConstraint" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setTestConstraintArray(test.xmlobject.test36510.TestConstraint[] testConstraintArray)
+    {
+        check_orphaned();
+        arraySetterHelper(testConstraintArray, TESTCONSTRAINT$0);
+    }
+    
+    /**
+     * Sets ith "testConstraint" element
+     */
+    public void setTestConstraintArray(int i, test.xmlobject.test36510.TestConstraint testConstraint)
+    {
+        generatedSetterHelperImpl(testConstraint, TESTCONSTRAINT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "testConstraint" element
+     */
+    public test.xmlobject.test36510.TestConstraint insertNewTestConstraint(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.TestConstraint target = null;
+            target = (test.xmlobject.test36510.TestConstraint)get_store().insert_element_user(TESTCONSTRAINT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "testConstraint" element
+     */
+    public test.xmlobject.test36510.TestConstraint addNewTestConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.TestConstraint target = null;
+            target = (test.xmlobject.test36510.TestConstraint)get_store().add_element_user(TESTCONSTRAINT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "testConstraint" element
+     */
+    public void removeTestConstraint(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TESTCONSTRAINT$0, i);
+        }
+    }
+}
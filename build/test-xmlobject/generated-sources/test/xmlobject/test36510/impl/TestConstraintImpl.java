@@ -0,0 +1,413 @@
+/*
+ * XML Type:  testConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.TestConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.impl;
+/**
+ * An XML testConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a complex type.
+ */
+public class TestConstraintImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements test.xmlobject.test36510.TestConstraint
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestConstraintImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DISPLAYNAME$0 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "display-name");
+    private static final javax.xml.namespace.QName CUSTOMCONSTRAINT$2 = 
+        new javax.xml.namespace.QName("http://test/xmlobject/test36510", "customConstraint");
+    private static final javax.xml.namespace.QName ID$4 = 
+        new javax.xml.namespace.QName("", "id");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -40852434:
+                if (name.equals(CUSTOMCONSTRAINT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public java.lang.String[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public java.lang.String getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DISPLAYNAME$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "display-name" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$0, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "display-name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DISPLAYNAME$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    public void setDisplayNameArray(java.lang.String[] displayNameArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(displayNameArray, DISPLAYNAME$0);
+        }
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, java.lang.String displayName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DISPLAYNAME$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(displayName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "display-name" element
+     */
+    public void xsetDisplayNameArray(org.apache.xmlbeans.XmlString[]displayNameArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(displayNameArray, DISPLAYNAME$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "display-name" element
+     */
+    public void xsetDisplayNameArray(int i, org.apache.xmlbeans.XmlString displayName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DISPLAYNAME$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(displayName);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "display-name" element
+     */
+    public void insertDisplayName(int i, java.lang.String displayName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DISPLAYNAME$0, i);
+            target.setStringValue(displayName);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "display-name" element
+     */
+    public void addDisplayName(java.lang.String displayName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DISPLAYNAME$0);
+            target.setStringValue(displayName);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(DISPLAYNAME$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public org.apache.xmlbeans.XmlString addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DISPLAYNAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "customConstraint" element
+     */
+    public test.xmlobject.test36510.CustomConstraint getCustomConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.CustomConstraint target = null;
+            target = (test.xmlobject.test36510.CustomConstraint)get_store().find_element_user(CUSTOMCONSTRAINT$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "customConstraint" element
+     */
+    public boolean isSetCustomConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CUSTOMCONSTRAINT$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "customConstraint" element
+     */
+    public void setCustomConstraint(test.xmlobject.test36510.CustomConstraint customConstraint)
+    {
+        generatedSetterHelperImpl(customConstraint, CUSTOMCONSTRAINT$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "customConstraint" element
+     */
+    public test.xmlobject.test36510.CustomConstraint addNewCustomConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            test.xmlobject.test36510.CustomConstraint target = null;
+            target = (test.xmlobject.test36510.CustomConstraint)get_store().add_element_user(CUSTOMCONSTRAINT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "customConstraint" element
+     */
+    public void unsetCustomConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CUSTOMCONSTRAINT$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.String getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "id" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ID$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id" attribute
+     */
+    public boolean isSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ID$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.String id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ID$4);
+            }
+            target.setStringValue(id);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "id" attribute
+     */
+    public void xsetId(org.apache.xmlbeans.XmlString id)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ID$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ID$4);
+            }
+            target.set(id);
+        }
+    }
+    
+    /**
+     * Unsets the "id" attribute
+     */
+    public void unsetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ID$4);
+        }
+    }
+}
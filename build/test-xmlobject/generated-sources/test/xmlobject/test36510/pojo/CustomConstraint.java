@@ -0,0 +1,152 @@
+/*
+ * XML Type:  customConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.pojo.CustomConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.pojo;
+
+/**
+ * An XML customConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a plain Java binding of test.xmlobject.test36510.CustomConstraint.
+ */
+public class CustomConstraint
+{
+    private java.lang.String _id;
+    private java.lang.String[] _description;
+    private java.lang.String _options;
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.String getId()
+    {
+        return _id;
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.String id)
+    {
+        this._id = id;
+    }
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public java.lang.String[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(java.lang.String[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "options" element
+     */
+    public java.lang.String getOptions()
+    {
+        return _options;
+    }
+    
+    /**
+     * Sets the "options" element
+     */
+    public void setOptions(java.lang.String options)
+    {
+        this._options = options;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static CustomConstraint read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CustomConstraint result = new CustomConstraint();
+        java.lang.String[] descriptionArray = new java.lang.String[0]; int descriptionCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("id".equals(local) && "".equals(uri))
+                result._id = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://test/xmlobject/test36510".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = reader.getStringValue();
+            }
+            else if ("options".equals(local) && "http://test/xmlobject/test36510".equals(uri))
+            {
+                result._options = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new java.lang.String[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._id != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "id", this._id);
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "description", ns);
+                    writer.writeCharacters(this._description[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._options != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "options", ns);
+            writer.writeCharacters(this._options);
+            writer.writeEndElement();
+        }
+    }
+}
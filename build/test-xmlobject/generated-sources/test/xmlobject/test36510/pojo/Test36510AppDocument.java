@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: test36510-app
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.pojo.Test36510AppDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.pojo;
+
+/**
+ * A document containing one test36510-app(@http://test/xmlobject/test36510) element.
+ *
+ * This is a plain Java binding of test.xmlobject.test36510.Test36510AppDocument.
+ */
+public class Test36510AppDocument
+{
+    private test.xmlobject.test36510.pojo.Test36510AppType _test36510App;
+    
+    /**
+     * Gets the "test36510-app" element
+     */
+    public test.xmlobject.test36510.pojo.Test36510AppType getTest36510App()
+    {
+        return _test36510App;
+    }
+    
+    /**
+     * Sets the "test36510-app" element
+     */
+    public void setTest36510App(test.xmlobject.test36510.pojo.Test36510AppType test36510App)
+    {
+        this._test36510App = test36510App;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be test36510-app(@http://test/xmlobject/test36510), and leaves the reader on the end of
+     * that element.
+     */
+    public static Test36510AppDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Test36510AppDocument result = new Test36510AppDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://test/xmlobject/test36510", "test36510-app");
+        {
+            result._test36510App = test.xmlobject.test36510.pojo.Test36510AppType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static Test36510AppDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static Test36510AppDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static Test36510AppDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._test36510App != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "test36510-app", ns);
+            this._test36510App.write(writer, "http://test/xmlobject/test36510");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * XML Type:  test36510-appType
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.pojo.Test36510AppType
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.pojo;
+
+/**
+ * An XML test36510-appType(@http://test/xmlobject/test36510).
+ *
+ * This is a plain Java binding of test.xmlobject.test36510.Test36510AppType.
+ */
+public class Test36510AppType
+{
+    private test.xmlobject.test36510.pojo.TestConstraint[] _testConstraint;
+    
+    /**
+     * Gets array of all "testConstraint" elements
+     */
+    public test.xmlobject.test36510.pojo.TestConstraint[] getTestConstraintArray()
+    {
+        return _testConstraint;
+    }
+    
+    /**
+     * Sets array of all "testConstraint" elements
+     */
+    public void setTestConstraintArray(test.xmlobject.test36510.pojo.TestConstraint[] testConstraint)
+    {
+        this._testConstraint = testConstraint;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Test36510AppType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Test36510AppType result = new Test36510AppType();
+        test.xmlobject.test36510.pojo.TestConstraint[] testConstraintArray = new test.xmlobject.test36510.pojo.TestConstraint[0]; int testConstraintCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("testConstraint".equals(local) && "http://test/xmlobject/test36510".equals(uri))
+            {
+                if (testConstraintCount == testConstraintArray.length)
+                {
+                    test.xmlobject.test36510.pojo.TestConstraint[] grown = new test.xmlobject.test36510.pojo.TestConstraint[testConstraintCount * 2 + 4];
+                    java.lang.System.arraycopy(testConstraintArray, 0, grown, 0, testConstraintCount);
+                    testConstraintArray = grown;
+                }
+                testConstraintArray[testConstraintCount++] = test.xmlobject.test36510.pojo.TestConstraint.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (testConstraintCount != testConstraintArray.length)
+        {
+            result._testConstraint = new test.xmlobject.test36510.pojo.TestConstraint[testConstraintCount];
+            java.lang.System.arraycopy(testConstraintArray, 0, result._testConstraint, 0, testConstraintCount);
+        }
+        else
+            result._testConstraint = testConstraintArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._testConstraint != null)
+        {
+            for (int i = 0; i < this._testConstraint.length; i++)
+            {
+                if (this._testConstraint[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "testConstraint", ns);
+                    this._testConstraint[i].write(writer, "http://test/xmlobject/test36510");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
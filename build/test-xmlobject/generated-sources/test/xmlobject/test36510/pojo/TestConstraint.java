@@ -0,0 +1,152 @@
+/*
+ * XML Type:  testConstraint
+ * Namespace: http://test/xmlobject/test36510
+ * Java type: test.xmlobject.test36510.pojo.TestConstraint
+ *
+ * Automatically generated - do not modify.
+ */
+package test.xmlobject.test36510.pojo;
+
+/**
+ * An XML testConstraint(@http://test/xmlobject/test36510).
+ *
+ * This is a plain Java binding of test.xmlobject.test36510.TestConstraint.
+ */
+public class TestConstraint
+{
+    private java.lang.String _id;
+    private java.lang.String[] _displayName;
+    private test.xmlobject.test36510.pojo.CustomConstraint _customConstraint;
+    
+    /**
+     * Gets the "id" attribute
+     */
+    public java.lang.String getId()
+    {
+        return _id;
+    }
+    
+    /**
+     * Sets the "id" attribute
+     */
+    public void setId(java.lang.String id)
+    {
+        this._id = id;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public java.lang.String[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(java.lang.String[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets the "customConstraint" element
+     */
+    public test.xmlobject.test36510.pojo.CustomConstraint getCustomConstraint()
+    {
+        return _customConstraint;
+    }
+    
+    /**
+     * Sets the "customConstraint" element
+     */
+    public void setCustomConstraint(test.xmlobject.test36510.pojo.CustomConstraint customConstraint)
+    {
+        this._customConstraint = customConstraint;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static TestConstraint read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TestConstraint result = new TestConstraint();
+        java.lang.String[] displayNameArray = new java.lang.String[0]; int displayNameCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("id".equals(local) && "".equals(uri))
+                result._id = reader.getAttributeStringValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("display-name".equals(local) && "http://test/xmlobject/test36510".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = reader.getStringValue();
+            }
+            else if ("customConstraint".equals(local) && "http://test/xmlobject/test36510".equals(uri))
+            {
+                result._customConstraint = test.xmlobject.test36510.pojo.CustomConstraint.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new java.lang.String[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._id != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "id", this._id);
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "display-name", ns);
+                    writer.writeCharacters(this._displayName[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._customConstraint != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://test/xmlobject/test36510", "customConstraint", ns);
+            this._customConstraint.write(writer, "http://test/xmlobject/test36510");
+            writer.writeEndElement();
+        }
+    }
+}
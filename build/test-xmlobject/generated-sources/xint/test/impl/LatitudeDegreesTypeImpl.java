@@ -0,0 +1,27 @@
+/*
+ * XML Type:  LatitudeDegreesType
+ * Namespace: java:int.test
+ * Java type: xint.test.LatitudeDegreesType
+ *
+ * Automatically generated - do not modify.
+ */
+package xint.test.impl;
+/**
+ * An XML LatitudeDegreesType(@java:int.test).
+ *
+ * This is an atomic type that is a restriction of xint.test.LatitudeDegreesType.
+ */
+public class LatitudeDegreesTypeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xint.test.LatitudeDegreesType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LatitudeDegreesTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected LatitudeDegreesTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  LongitudeDegreesType
+ * Namespace: java:int.test
+ * Java type: xint.test.LongitudeDegreesType
+ *
+ * Automatically generated - do not modify.
+ */
+package xint.test.impl;
+/**
+ * An XML LongitudeDegreesType(@java:int.test).
+ *
+ * This is an atomic type that is a restriction of xint.test.LongitudeDegreesType.
+ */
+public class LongitudeDegreesTypeImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements xint.test.LongitudeDegreesType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LongitudeDegreesTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected LongitudeDegreesTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
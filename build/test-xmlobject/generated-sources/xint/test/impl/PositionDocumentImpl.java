@@ -0,0 +1,279 @@
+/*
+ * An XML document type.
+ * Localname: position
+ * Namespace: java:int.test
+ * Java type: xint.test.PositionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xint.test.impl;
+/**
+ * A document containing one position(@java:int.test) element.
+ *
+ * This is a complex type.
+ */
+public class PositionDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xint.test.PositionDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PositionDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName POSITION$0 = 
+        new javax.xml.namespace.QName("java:int.test", "position");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 747804969:
+                if (name.equals(POSITION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "position" element
+     */
+    public xint.test.PositionDocument.Position getPosition()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xint.test.PositionDocument.Position target = null;
+            target = (xint.test.PositionDocument.Position)get_store().find_element_user(POSITION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "position" element
+     */
+    public void setPosition(xint.test.PositionDocument.Position position)
+    {
+        generatedSetterHelperImpl(position, POSITION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "position" element
+     */
+    public xint.test.PositionDocument.Position addNewPosition()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xint.test.PositionDocument.Position target = null;
+            target = (xint.test.PositionDocument.Position)get_store().add_element_user(POSITION$0);
+            return target;
+        }
+    }
+    /**
+     * An XML position(@java:int.test).
+     *
+     * This is a complex type.
+     */
+    public static class PositionImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xint.test.PositionDocument.Position
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PositionImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LAT$0 = 
+            new javax.xml.namespace.QName("java:int.test", "lat");
+        private static final javax.xml.namespace.QName LON$2 = 
+            new javax.xml.namespace.QName("java:int.test", "lon");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(2);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case 106911:
+                    if (name.equals(LAT$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 107339:
+                    if (name.equals(LON$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "lat" element
+         */
+        public short getLat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(LAT$0, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexShort(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LAT$0, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getShortValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "lat" element
+         */
+        public xint.test.LatitudeDegreesType xgetLat()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xint.test.LatitudeDegreesType target = null;
+                target = (xint.test.LatitudeDegreesType)get_store().find_element_user(LAT$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "lat" element
+         */
+        public void setLat(short lat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LAT$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LAT$0);
+                }
+                target.setShortValue(lat);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "lat" element
+         */
+        public void xsetLat(xint.test.LatitudeDegreesType lat)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xint.test.LatitudeDegreesType target = null;
+                target = (xint.test.LatitudeDegreesType)get_store().find_element_user(LAT$0, 0);
+                if (target == null)
+                {
+                    target = (xint.test.LatitudeDegreesType)get_store().add_element_user(LAT$0);
+                }
+                target.set(lat);
+            }
+        }
+        
+        /**
+         * Gets the "lon" element
+         */
+        public short getLon()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(LON$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexShort(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LON$2, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getShortValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "lon" element
+         */
+        public xint.test.LongitudeDegreesType xgetLon()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xint.test.LongitudeDegreesType target = null;
+                target = (xint.test.LongitudeDegreesType)get_store().find_element_user(LON$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "lon" element
+         */
+        public void setLon(short lon)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LON$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LON$2);
+                }
+                target.setShortValue(lon);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "lon" element
+         */
+        public void xsetLon(xint.test.LongitudeDegreesType lon)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                xint.test.LongitudeDegreesType target = null;
+                target = (xint.test.LongitudeDegreesType)get_store().find_element_user(LON$2, 0);
+                if (target == null)
+                {
+                    target = (xint.test.LongitudeDegreesType)get_store().add_element_user(LON$2);
+                }
+                target.set(lon);
+            }
+        }
+    }
+}
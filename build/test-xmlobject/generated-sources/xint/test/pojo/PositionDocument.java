@@ -0,0 +1,209 @@
+/*
+ * An XML document type.
+ * Localname: position
+ * Namespace: java:int.test
+ * Java type: xint.test.pojo.PositionDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xint.test.pojo;
+
+/**
+ * A document containing one position(@java:int.test) element.
+ *
+ * This is a plain Java binding of xint.test.PositionDocument.
+ */
+public class PositionDocument
+{
+    private xint.test.pojo.PositionDocument.Position _position;
+    
+    /**
+     * Gets the "position" element
+     */
+    public xint.test.pojo.PositionDocument.Position getPosition()
+    {
+        return _position;
+    }
+    
+    /**
+     * Sets the "position" element
+     */
+    public void setPosition(xint.test.pojo.PositionDocument.Position position)
+    {
+        this._position = position;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be position(@java:int.test), and leaves the reader on the end of
+     * that element.
+     */
+    public static PositionDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        PositionDocument result = new PositionDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "java:int.test", "position");
+        {
+            result._position = xint.test.pojo.PositionDocument.Position.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static PositionDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static PositionDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static PositionDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._position != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "java:int.test", "position", ns);
+            this._position.write(writer, "java:int.test");
+            writer.writeEndElement();
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is a plain Java binding of xint.test.PositionDocument.Position.
+     */
+    public static class Position
+    {
+        private short _lat;
+        private short _lon;
+        
+        /**
+         * Gets the "lat" element
+         */
+        public short getLat()
+        {
+            return _lat;
+        }
+        
+        /**
+         * Sets the "lat" element
+         */
+        public void setLat(short lat)
+        {
+            this._lat = lat;
+        }
+        
+        /**
+         * Gets the "lon" element
+         */
+        public short getLon()
+        {
+            return _lon;
+        }
+        
+        /**
+         * Sets the "lon" element
+         */
+        public void setLon(short lon)
+        {
+            this._lon = lon;
+        }
+        
+        /**
+         * Reads an instance from the element the reader is on, and leaves
+         * the reader on the end of that element.
+         */
+        public static Position read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+            throws javax.xml.stream.XMLStreamException
+        {
+            Position result = new Position();
+            
+            for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+            {
+                if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                    continue;
+                java.lang.String local = reader.getLocalName();
+                java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+                if ("lat".equals(local) && "java:int.test".equals(uri))
+                {
+                    result._lat = reader.getShortValue();
+                }
+                else if ("lon".equals(local) && "java:int.test".equals(uri))
+                {
+                    result._lon = reader.getShortValue();
+                }
+                else
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+            }
+            return result;
+        }
+        
+        /**
+         * Writes the attributes and the content of this object into the
+         * element the writer has just started, in whose scope ns is the
+         * default namespace.
+         */
+        public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+            throws javax.xml.stream.XMLStreamException
+        {
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "java:int.test", "lat", ns);
+                writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printShort(this._lat));
+                writer.writeEndElement();
+            }
+            {
+                org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "java:int.test", "lon", ns);
+                writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printShort(this._lon));
+                writer.writeEndElement();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * XML Type:  BeanBagSizeType
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BeanBagSizeType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup;
+
+
+/**
+ * An XML BeanBagSizeType(@http://xmlobject/substgroup).
+ *
+ * This is an atomic type that is a restriction of xmlobject.substgroup.BeanBagSizeType.
+ */
+public interface BeanBagSizeType extends org.apache.xmlbeans.XmlString
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BeanBagSizeType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("beanbagsizetype9173type");
+    
+    /**
+     * Gets the "color" attribute
+     */
+    java.lang.String getColor();
+    
+    /**
+     * Gets (as xml) the "color" attribute
+     */
+    org.apache.xmlbeans.XmlToken xgetColor();
+    
+    /**
+     * True if has "color" attribute
+     */
+    boolean isSetColor();
+    
+    /**
+     * Sets the "color" attribute
+     */
+    void setColor(java.lang.String color);
+    
+    /**
+     * Sets (as xml) the "color" attribute
+     */
+    void xsetColor(org.apache.xmlbeans.XmlToken color);
+    
+    /**
+     * Unsets the "color" attribute
+     */
+    void unsetColor();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlobject.substgroup.BeanBagSizeType newInstance() {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlobject.substgroup.BeanBagSizeType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobject.substgroup.BeanBagSizeType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobject.substgroup.BeanBagSizeType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobject.substgroup.BeanBagSizeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
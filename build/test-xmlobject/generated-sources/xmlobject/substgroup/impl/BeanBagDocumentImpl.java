@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: beanBag
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BeanBagDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one beanBag(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BeanBagDocumentImpl extends xmlobject.substgroup.impl.ItemDocumentImpl implements xmlobject.substgroup.BeanBagDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BeanBagDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BEANBAG$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "beanBag");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -234483144:
+                if (name.equals(BEANBAG$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "beanBag" element
+     */
+    public xmlobject.substgroup.BeanBagType getBeanBag()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BeanBagType target = null;
+            target = (xmlobject.substgroup.BeanBagType)get_store().find_element_user(BEANBAG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "beanBag" element
+     */
+    public void setBeanBag(xmlobject.substgroup.BeanBagType beanBag)
+    {
+        generatedSetterHelperImpl(beanBag, BEANBAG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "beanBag" element
+     */
+    public xmlobject.substgroup.BeanBagType addNewBeanBag()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BeanBagType target = null;
+            target = (xmlobject.substgroup.BeanBagType)get_store().add_element_user(BEANBAG$0);
+            return target;
+        }
+    }
+}
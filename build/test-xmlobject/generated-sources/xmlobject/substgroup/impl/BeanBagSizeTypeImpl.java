@@ -0,0 +1,123 @@
+/*
+ * XML Type:  BeanBagSizeType
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BeanBagSizeType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * An XML BeanBagSizeType(@http://xmlobject/substgroup).
+ *
+ * This is an atomic type that is a restriction of xmlobject.substgroup.BeanBagSizeType.
+ */
+public class BeanBagSizeTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements xmlobject.substgroup.BeanBagSizeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BeanBagSizeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected BeanBagSizeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName COLOR$0 = 
+        new javax.xml.namespace.QName("", "color");
+    
+    
+    /**
+     * Gets the "color" attribute
+     */
+    public java.lang.String getColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COLOR$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "color" attribute
+     */
+    public org.apache.xmlbeans.XmlToken xgetColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(COLOR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "color" attribute
+     */
+    public boolean isSetColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(COLOR$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "color" attribute
+     */
+    public void setColor(java.lang.String color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COLOR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COLOR$0);
+            }
+            target.setStringValue(color);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "color" attribute
+     */
+    public void xsetColor(org.apache.xmlbeans.XmlToken color)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlToken target = null;
+            target = (org.apache.xmlbeans.XmlToken)get_store().find_attribute_user(COLOR$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlToken)get_store().add_attribute_user(COLOR$0);
+            }
+            target.set(color);
+        }
+    }
+    
+    /**
+     * Unsets the "color" attribute
+     */
+    public void unsetColor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(COLOR$0);
+        }
+    }
+}
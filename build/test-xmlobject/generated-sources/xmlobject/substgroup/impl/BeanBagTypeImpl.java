@@ -0,0 +1,80 @@
+/*
+ * XML Type:  BeanBagType
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BeanBagType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * An XML BeanBagType(@http://xmlobject/substgroup).
+ *
+ * This is a complex type.
+ */
+public class BeanBagTypeImpl extends xmlobject.substgroup.impl.ItemTypeImpl implements xmlobject.substgroup.BeanBagType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BeanBagTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIZE$0 = 
+        new javax.xml.namespace.QName("", "size");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3530753:
+                if (name.equals(SIZE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "size" element
+     */
+    public xmlobject.substgroup.BeanBagSizeType getSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BeanBagSizeType target = null;
+            target = (xmlobject.substgroup.BeanBagSizeType)get_store().find_element_user(SIZE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "size" element
+     */
+    public void setSize(xmlobject.substgroup.BeanBagSizeType size)
+    {
+        generatedSetterHelperImpl(size, SIZE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "size" element
+     */
+    public xmlobject.substgroup.BeanBagSizeType addNewSize()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BeanBagSizeType target = null;
+            target = (xmlobject.substgroup.BeanBagSizeType)get_store().add_element_user(SIZE$0);
+            return target;
+        }
+    }
+}
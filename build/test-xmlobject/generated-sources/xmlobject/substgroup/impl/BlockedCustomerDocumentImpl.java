@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: blockedCustomer
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedCustomerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedCustomer(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedCustomerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.BlockedCustomerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedCustomerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDCUSTOMER$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedCustomer");
+    private static final org.apache.xmlbeans.QNameSet BLOCKEDCUSTOMER$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedCustomer"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedEmployee"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1017505302:
+                if (name.equals(BLOCKEDCUSTOMER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedCustomer" element
+     */
+    public xmlobject.substgroup.BlockedInfo getBlockedCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BlockedInfo target = null;
+            target = (xmlobject.substgroup.BlockedInfo)get_store().find_element_user(BLOCKEDCUSTOMER$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedCustomer" element
+     */
+    public void setBlockedCustomer(xmlobject.substgroup.BlockedInfo blockedCustomer)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BlockedInfo target = null;
+            target = (xmlobject.substgroup.BlockedInfo)get_store().find_element_user(BLOCKEDCUSTOMER$1, 0);
+            if (target == null)
+            {
+                target = (xmlobject.substgroup.BlockedInfo)get_store().add_element_user(BLOCKEDCUSTOMER$0);
+            }
+            target.set(blockedCustomer);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "blockedCustomer" element
+     */
+    public xmlobject.substgroup.BlockedInfo addNewBlockedCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BlockedInfo target = null;
+            target = (xmlobject.substgroup.BlockedInfo)get_store().add_element_user(BLOCKEDCUSTOMER$0);
+            return target;
+        }
+    }
+}
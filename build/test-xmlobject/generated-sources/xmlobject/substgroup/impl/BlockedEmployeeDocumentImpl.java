@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: blockedEmployee
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedEmployeeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedEmployee(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedEmployeeDocumentImpl extends xmlobject.substgroup.impl.BlockedCustomerDocumentImpl implements xmlobject.substgroup.BlockedEmployeeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedEmployeeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDEMPLOYEE$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedEmployee");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -430210886:
+                if (name.equals(BLOCKEDEMPLOYEE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedEmployee" element
+     */
+    public xmlobject.substgroup.BlockedInfo getBlockedEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BlockedInfo target = null;
+            target = (xmlobject.substgroup.BlockedInfo)get_store().find_element_user(BLOCKEDEMPLOYEE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedEmployee" element
+     */
+    public void setBlockedEmployee(xmlobject.substgroup.BlockedInfo blockedEmployee)
+    {
+        generatedSetterHelperImpl(blockedEmployee, BLOCKEDEMPLOYEE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "blockedEmployee" element
+     */
+    public xmlobject.substgroup.BlockedInfo addNewBlockedEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.BlockedInfo target = null;
+            target = (xmlobject.substgroup.BlockedInfo)get_store().add_element_user(BLOCKEDEMPLOYEE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: blockedItem
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedItemDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedItem(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedItemDocumentImpl extends xmlobject.substgroup.impl.BlockedchairDocumentImpl implements xmlobject.substgroup.BlockedItemDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedItemDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDITEM$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedItem");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1384184607:
+                if (name.equals(BLOCKEDITEM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedItem" element
+     */
+    public xmlobject.substgroup.ItemType getBlockedItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(BLOCKEDITEM$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedItem" element
+     */
+    public void setBlockedItem(xmlobject.substgroup.ItemType blockedItem)
+    {
+        generatedSetterHelperImpl(blockedItem, BLOCKEDITEM$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "blockedItem" element
+     */
+    public xmlobject.substgroup.ItemType addNewBlockedItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().add_element_user(BLOCKEDITEM$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * An XML document type.
+ * Localname: blockedString
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedStringDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedString(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedStringDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.BlockedStringDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedStringDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDSTRING$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedString");
+    private static final org.apache.xmlbeans.QNameSet BLOCKEDSTRING$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedString"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedStringSub"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -951775971:
+                if (name.equals(BLOCKEDSTRING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedString" element
+     */
+    public java.lang.String getBlockedString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCKEDSTRING$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "blockedString" element
+     */
+    public org.apache.xmlbeans.XmlString xgetBlockedString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCKEDSTRING$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedString" element
+     */
+    public void setBlockedString(java.lang.String blockedString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCKEDSTRING$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BLOCKEDSTRING$0);
+            }
+            target.setStringValue(blockedString);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "blockedString" element
+     */
+    public void xsetBlockedString(org.apache.xmlbeans.XmlString blockedString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCKEDSTRING$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(BLOCKEDSTRING$0);
+            }
+            target.set(blockedString);
+        }
+    }
+}
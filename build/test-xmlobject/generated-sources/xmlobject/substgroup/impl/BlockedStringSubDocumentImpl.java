@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: blockedStringSub
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedStringSubDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedStringSub(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedStringSubDocumentImpl extends xmlobject.substgroup.impl.BlockedStringDocumentImpl implements xmlobject.substgroup.BlockedStringSubDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedStringSubDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDSTRINGSUB$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedStringSub");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1016219619:
+                if (name.equals(BLOCKEDSTRINGSUB$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedStringSub" element
+     */
+    public java.lang.String getBlockedStringSub()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCKEDSTRINGSUB$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "blockedStringSub" element
+     */
+    public org.apache.xmlbeans.XmlString xgetBlockedStringSub()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCKEDSTRINGSUB$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedStringSub" element
+     */
+    public void setBlockedStringSub(java.lang.String blockedStringSub)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(BLOCKEDSTRINGSUB$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(BLOCKEDSTRINGSUB$0);
+            }
+            target.setStringValue(blockedStringSub);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "blockedStringSub" element
+     */
+    public void xsetBlockedStringSub(org.apache.xmlbeans.XmlString blockedStringSub)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(BLOCKEDSTRINGSUB$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(BLOCKEDSTRINGSUB$0);
+            }
+            target.set(blockedStringSub);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: blockedchair
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.BlockedchairDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one blockedchair(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class BlockedchairDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.BlockedchairDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BlockedchairDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BLOCKEDCHAIR$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedchair");
+    private static final org.apache.xmlbeans.QNameSet BLOCKEDCHAIR$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedchair"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "blockedItem"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -16299943:
+                if (name.equals(BLOCKEDCHAIR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "blockedchair" element
+     */
+    public xmlobject.substgroup.ItemType getBlockedchair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(BLOCKEDCHAIR$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "blockedchair" element
+     */
+    public void setBlockedchair(xmlobject.substgroup.ItemType blockedchair)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(BLOCKEDCHAIR$1, 0);
+            if (target == null)
+            {
+                target = (xmlobject.substgroup.ItemType)get_store().add_element_user(BLOCKEDCHAIR$0);
+            }
+            target.set(blockedchair);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "blockedchair" element
+     */
+    public xmlobject.substgroup.ItemType addNewBlockedchair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().add_element_user(BLOCKEDCHAIR$0);
+            return target;
+        }
+    }
+}
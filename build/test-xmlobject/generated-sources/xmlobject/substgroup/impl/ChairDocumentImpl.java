@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: chair
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.ChairDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one chair(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class ChairDocumentImpl extends xmlobject.substgroup.impl.ItemDocumentImpl implements xmlobject.substgroup.ChairDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ChairDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CHAIR$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "chair");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 94623429:
+                if (name.equals(CHAIR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "chair" element
+     */
+    public xmlobject.substgroup.ItemType getChair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(CHAIR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "chair" element
+     */
+    public void setChair(xmlobject.substgroup.ItemType chair)
+    {
+        generatedSetterHelperImpl(chair, CHAIR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "chair" element
+     */
+    public xmlobject.substgroup.ItemType addNewChair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().add_element_user(CHAIR$0);
+            return target;
+        }
+    }
+}
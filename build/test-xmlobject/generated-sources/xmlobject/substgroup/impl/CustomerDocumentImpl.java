@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: customer
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.CustomerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one customer(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class CustomerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.CustomerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CustomerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CUSTOMER$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "customer");
+    private static final org.apache.xmlbeans.QNameSet CUSTOMER$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "customer"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "employee"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 606175198:
+                if (name.equals(CUSTOMER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "customer" element
+     */
+    public xmlobject.substgroup.Info getCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.Info target = null;
+            target = (xmlobject.substgroup.Info)get_store().find_element_user(CUSTOMER$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "customer" element
+     */
+    public void setCustomer(xmlobject.substgroup.Info customer)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.Info target = null;
+            target = (xmlobject.substgroup.Info)get_store().find_element_user(CUSTOMER$1, 0);
+            if (target == null)
+            {
+                target = (xmlobject.substgroup.Info)get_store().add_element_user(CUSTOMER$0);
+            }
+            target.set(customer);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "customer" element
+     */
+    public xmlobject.substgroup.Info addNewCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.Info target = null;
+            target = (xmlobject.substgroup.Info)get_store().add_element_user(CUSTOMER$0);
+            return target;
+        }
+    }
+}
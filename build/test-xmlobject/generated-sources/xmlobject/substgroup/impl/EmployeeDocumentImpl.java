@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: employee
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.EmployeeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one employee(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class EmployeeDocumentImpl extends xmlobject.substgroup.impl.CustomerDocumentImpl implements xmlobject.substgroup.EmployeeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EmployeeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EMPLOYEE$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "employee");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1193469614:
+                if (name.equals(EMPLOYEE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "employee" element
+     */
+    public xmlobject.substgroup.Info getEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.Info target = null;
+            target = (xmlobject.substgroup.Info)get_store().find_element_user(EMPLOYEE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "employee" element
+     */
+    public void setEmployee(xmlobject.substgroup.Info employee)
+    {
+        generatedSetterHelperImpl(employee, EMPLOYEE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "employee" element
+     */
+    public xmlobject.substgroup.Info addNewEmployee()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.Info target = null;
+            target = (xmlobject.substgroup.Info)get_store().add_element_user(EMPLOYEE$0);
+            return target;
+        }
+    }
+}
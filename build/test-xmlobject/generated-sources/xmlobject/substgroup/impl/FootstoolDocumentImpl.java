@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: footstool
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.FootstoolDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one footstool(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class FootstoolDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.FootstoolDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FootstoolDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FOOTSTOOL$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "footstool");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -633896739:
+                if (name.equals(FOOTSTOOL$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "footstool" element
+     */
+    public java.lang.String getFootstool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOTSTOOL$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "footstool" element
+     */
+    public org.apache.xmlbeans.XmlString xgetFootstool()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOTSTOOL$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "footstool" element
+     */
+    public void setFootstool(java.lang.String footstool)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FOOTSTOOL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FOOTSTOOL$0);
+            }
+            target.setStringValue(footstool);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "footstool" element
+     */
+    public void xsetFootstool(org.apache.xmlbeans.XmlString footstool)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(FOOTSTOOL$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(FOOTSTOOL$0);
+            }
+            target.set(footstool);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: notachair
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.NotachairDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one notachair(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class NotachairDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.NotachairDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NotachairDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NOTACHAIR$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "notachair");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1669786519:
+                if (name.equals(NOTACHAIR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "notachair" element
+     */
+    public xmlobject.substgroup.ItemType getNotachair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(NOTACHAIR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "notachair" element
+     */
+    public void setNotachair(xmlobject.substgroup.ItemType notachair)
+    {
+        generatedSetterHelperImpl(notachair, NOTACHAIR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "notachair" element
+     */
+    public xmlobject.substgroup.ItemType addNewNotachair()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().add_element_user(NOTACHAIR$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * XML Type:  OrderItem
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.OrderItem
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * An XML OrderItem(@http://xmlobject/substgroup).
+ *
+ * This is a complex type.
+ */
+public class OrderItemImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.OrderItem
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderItemImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ITEM$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "item");
+    private static final org.apache.xmlbeans.QNameSet ITEM$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "beanBag"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "item"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "chair"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 3242771:
+                if (name.equals(ITEM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "item" element
+     */
+    public xmlobject.substgroup.ItemType getItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(ITEM$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "item" element
+     */
+    public void setItem(xmlobject.substgroup.ItemType item)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().find_element_user(ITEM$1, 0);
+            if (target == null)
+            {
+                target = (xmlobject.substgroup.ItemType)get_store().add_element_user(ITEM$0);
+            }
+            target.set(item);
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty "item" element
+     */
+    public xmlobject.substgroup.ItemType addNewItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobject.substgroup.ItemType target = null;
+            target = (xmlobject.substgroup.ItemType)get_store().add_element_user(ITEM$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * An XML document type.
+ * Localname: string
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.StringDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one string(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class StringDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobject.substgroup.StringDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StringDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STRING$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "string");
+    private static final org.apache.xmlbeans.QNameSet STRING$1 = org.apache.xmlbeans.QNameSet.forArray( new javax.xml.namespace.QName[] { 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "stringSub"),
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "string"),
+    });
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -891985903:
+                if (name.equals(STRING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "string" element
+     */
+    public java.lang.String getString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$1, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "string" element
+     */
+    public org.apache.xmlbeans.XmlString xgetString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$1, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "string" element
+     */
+    public void setString(java.lang.String string)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRING$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STRING$0);
+            }
+            target.setStringValue(string);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "string" element
+     */
+    public void xsetString(org.apache.xmlbeans.XmlString string)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRING$1, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STRING$0);
+            }
+            target.set(string);
+        }
+    }
+}
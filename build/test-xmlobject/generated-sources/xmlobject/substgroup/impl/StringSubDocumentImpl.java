@@ -0,0 +1,109 @@
+/*
+ * An XML document type.
+ * Localname: stringSub
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.StringSubDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.impl;
+/**
+ * A document containing one stringSub(@http://xmlobject/substgroup) element.
+ *
+ * This is a complex type.
+ */
+public class StringSubDocumentImpl extends xmlobject.substgroup.impl.StringDocumentImpl implements xmlobject.substgroup.StringSubDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StringSubDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STRINGSUB$0 = 
+        new javax.xml.namespace.QName("http://xmlobject/substgroup", "stringSub");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -189292433:
+                if (name.equals(STRINGSUB$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "stringSub" element
+     */
+    public java.lang.String getStringSub()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRINGSUB$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "stringSub" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStringSub()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRINGSUB$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "stringSub" element
+     */
+    public void setStringSub(java.lang.String stringSub)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STRINGSUB$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STRINGSUB$0);
+            }
+            target.setStringValue(stringSub);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "stringSub" element
+     */
+    public void xsetStringSub(org.apache.xmlbeans.XmlString stringSub)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STRINGSUB$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STRINGSUB$0);
+            }
+            target.set(stringSub);
+        }
+    }
+}
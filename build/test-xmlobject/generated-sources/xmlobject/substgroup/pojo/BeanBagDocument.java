@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: beanBag
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BeanBagDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one beanBag(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BeanBagDocument.
+ */
+public class BeanBagDocument
+{
+    private xmlobject.substgroup.pojo.BeanBagType _beanBag;
+    
+    /**
+     * Gets the "beanBag" element
+     */
+    public xmlobject.substgroup.pojo.BeanBagType getBeanBag()
+    {
+        return _beanBag;
+    }
+    
+    /**
+     * Sets the "beanBag" element
+     */
+    public void setBeanBag(xmlobject.substgroup.pojo.BeanBagType beanBag)
+    {
+        this._beanBag = beanBag;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be beanBag(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BeanBagDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BeanBagDocument result = new BeanBagDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "beanBag");
+        {
+            result._beanBag = xmlobject.substgroup.pojo.BeanBagType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BeanBagDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BeanBagDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BeanBagDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._beanBag != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "beanBag", ns);
+            this._beanBag.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
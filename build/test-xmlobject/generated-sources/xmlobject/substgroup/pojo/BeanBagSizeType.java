@@ -0,0 +1,88 @@
+/*
+ * XML Type:  BeanBagSizeType
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BeanBagSizeType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * An XML BeanBagSizeType(@http://xmlobject/substgroup).
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BeanBagSizeType.
+ */
+public class BeanBagSizeType
+{
+    private java.lang.String _color;
+    private java.lang.String _value;
+    
+    /**
+     * Gets the "color" attribute
+     */
+    public java.lang.String getColor()
+    {
+        return _color;
+    }
+    
+    /**
+     * Sets the "color" attribute
+     */
+    public void setColor(java.lang.String color)
+    {
+        this._color = color;
+    }
+    
+    /**
+     * Gets the simple content
+     */
+    public java.lang.String getValue()
+    {
+        return _value;
+    }
+    
+    /**
+     * Sets the simple content
+     */
+    public void setValue(java.lang.String value)
+    {
+        this._value = value;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static BeanBagSizeType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BeanBagSizeType result = new BeanBagSizeType();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("color".equals(local) && "".equals(uri))
+                result._color = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        
+        result._value = reader.getStringValue();
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._color != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "color", this._color);
+        if (this._value != null)
+            writer.writeCharacters(this._value);
+    }
+}
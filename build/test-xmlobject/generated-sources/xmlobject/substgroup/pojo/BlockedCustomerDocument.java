@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: blockedCustomer
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedCustomerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one blockedCustomer(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedCustomerDocument.
+ */
+public class BlockedCustomerDocument
+{
+    private xmlobject.substgroup.pojo.BlockedInfo _blockedCustomer;
+    
+    /**
+     * Gets the "blockedCustomer" element
+     */
+    public xmlobject.substgroup.pojo.BlockedInfo getBlockedCustomer()
+    {
+        return _blockedCustomer;
+    }
+    
+    /**
+     * Sets the "blockedCustomer" element
+     */
+    public void setBlockedCustomer(xmlobject.substgroup.pojo.BlockedInfo blockedCustomer)
+    {
+        this._blockedCustomer = blockedCustomer;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockedCustomer(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockedCustomerDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedCustomerDocument result = new BlockedCustomerDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "blockedCustomer");
+        {
+            result._blockedCustomer = xmlobject.substgroup.pojo.BlockedInfo.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockedCustomerDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockedCustomerDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockedCustomerDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedCustomer != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedCustomer", ns);
+            this._blockedCustomer.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
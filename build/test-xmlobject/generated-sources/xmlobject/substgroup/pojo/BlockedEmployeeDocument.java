@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: blockedEmployee
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedEmployeeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one blockedEmployee(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedEmployeeDocument.
+ */
+public class BlockedEmployeeDocument
+{
+    private xmlobject.substgroup.pojo.BlockedInfo _blockedEmployee;
+    
+    /**
+     * Gets the "blockedEmployee" element
+     */
+    public xmlobject.substgroup.pojo.BlockedInfo getBlockedEmployee()
+    {
+        return _blockedEmployee;
+    }
+    
+    /**
+     * Sets the "blockedEmployee" element
+     */
+    public void setBlockedEmployee(xmlobject.substgroup.pojo.BlockedInfo blockedEmployee)
+    {
+        this._blockedEmployee = blockedEmployee;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockedEmployee(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockedEmployeeDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedEmployeeDocument result = new BlockedEmployeeDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "blockedEmployee");
+        {
+            result._blockedEmployee = xmlobject.substgroup.pojo.BlockedInfo.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockedEmployeeDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockedEmployeeDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockedEmployeeDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedEmployee != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedEmployee", ns);
+            this._blockedEmployee.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
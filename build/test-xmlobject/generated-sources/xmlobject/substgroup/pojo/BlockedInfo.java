@@ -0,0 +1,75 @@
+/*
+ * XML Type:  blockedInfo
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedInfo
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * An XML blockedInfo(@http://xmlobject/substgroup).
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedInfo.
+ */
+public class BlockedInfo
+{
+    private java.lang.String _blockedString;
+    
+    /**
+     * Gets the "blockedString" element
+     */
+    public java.lang.String getBlockedString()
+    {
+        return _blockedString;
+    }
+    
+    /**
+     * Sets the "blockedString" element
+     */
+    public void setBlockedString(java.lang.String blockedString)
+    {
+        this._blockedString = blockedString;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static BlockedInfo read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedInfo result = new BlockedInfo();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if (("blockedString".equals(local) && "http://xmlobject/substgroup".equals(uri)) || ("blockedStringSub".equals(local) && "http://xmlobject/substgroup".equals(uri)))
+            {
+                result._blockedString = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedString != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedString", ns);
+            writer.writeCharacters(this._blockedString);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: blockedItem
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedItemDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one blockedItem(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedItemDocument.
+ */
+public class BlockedItemDocument
+{
+    private xmlobject.substgroup.pojo.ItemType _blockedItem;
+    
+    /**
+     * Gets the "blockedItem" element
+     */
+    public xmlobject.substgroup.pojo.ItemType getBlockedItem()
+    {
+        return _blockedItem;
+    }
+    
+    /**
+     * Sets the "blockedItem" element
+     */
+    public void setBlockedItem(xmlobject.substgroup.pojo.ItemType blockedItem)
+    {
+        this._blockedItem = blockedItem;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockedItem(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockedItemDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedItemDocument result = new BlockedItemDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "blockedItem");
+        {
+            result._blockedItem = xmlobject.substgroup.pojo.ItemType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockedItemDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockedItemDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockedItemDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedItem != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedItem", ns);
+            this._blockedItem.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: blockedString
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedStringDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one blockedString(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedStringDocument.
+ */
+public class BlockedStringDocument
+{
+    private java.lang.String _blockedString;
+    
+    /**
+     * Gets the "blockedString" element
+     */
+    public java.lang.String getBlockedString()
+    {
+        return _blockedString;
+    }
+    
+    /**
+     * Sets the "blockedString" element
+     */
+    public void setBlockedString(java.lang.String blockedString)
+    {
+        this._blockedString = blockedString;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockedString(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockedStringDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedStringDocument result = new BlockedStringDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "blockedString");
+        {
+            result._blockedString = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockedStringDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockedStringDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockedStringDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedString != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedString", ns);
+            writer.writeCharacters(this._blockedString);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: blockedStringSub
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.BlockedStringSubDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one blockedStringSub(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.BlockedStringSubDocument.
+ */
+public class BlockedStringSubDocument
+{
+    private java.lang.String _blockedStringSub;
+    
+    /**
+     * Gets the "blockedStringSub" element
+     */
+    public java.lang.String getBlockedStringSub()
+    {
+        return _blockedStringSub;
+    }
+    
+    /**
+     * Sets the "blockedStringSub" element
+     */
+    public void setBlockedStringSub(java.lang.String blockedStringSub)
+    {
+        this._blockedStringSub = blockedStringSub;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be blockedStringSub(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static BlockedStringSubDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        BlockedStringSubDocument result = new BlockedStringSubDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "blockedStringSub");
+        {
+            result._blockedStringSub = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static BlockedStringSubDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static BlockedStringSubDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static BlockedStringSubDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._blockedStringSub != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "blockedStringSub", ns);
+            writer.writeCharacters(this._blockedStringSub);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: chair
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.ChairDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one chair(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.ChairDocument.
+ */
+public class ChairDocument
+{
+    private xmlobject.substgroup.pojo.ItemType _chair;
+    
+    /**
+     * Gets the "chair" element
+     */
+    public xmlobject.substgroup.pojo.ItemType getChair()
+    {
+        return _chair;
+    }
+    
+    /**
+     * Sets the "chair" element
+     */
+    public void setChair(xmlobject.substgroup.pojo.ItemType chair)
+    {
+        this._chair = chair;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be chair(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static ChairDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ChairDocument result = new ChairDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "chair");
+        {
+            result._chair = xmlobject.substgroup.pojo.ItemType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ChairDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ChairDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ChairDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._chair != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "chair", ns);
+            this._chair.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
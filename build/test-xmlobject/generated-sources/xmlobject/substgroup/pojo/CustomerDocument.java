@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: customer
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.CustomerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one customer(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.CustomerDocument.
+ */
+public class CustomerDocument
+{
+    private xmlobject.substgroup.pojo.Info _customer;
+    
+    /**
+     * Gets the "customer" element
+     */
+    public xmlobject.substgroup.pojo.Info getCustomer()
+    {
+        return _customer;
+    }
+    
+    /**
+     * Sets the "customer" element
+     */
+    public void setCustomer(xmlobject.substgroup.pojo.Info customer)
+    {
+        this._customer = customer;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be customer(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static CustomerDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        CustomerDocument result = new CustomerDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "customer");
+        {
+            result._customer = xmlobject.substgroup.pojo.Info.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static CustomerDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static CustomerDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static CustomerDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._customer != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "customer", ns);
+            this._customer.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: employee
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.EmployeeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one employee(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.EmployeeDocument.
+ */
+public class EmployeeDocument
+{
+    private xmlobject.substgroup.pojo.Info _employee;
+    
+    /**
+     * Gets the "employee" element
+     */
+    public xmlobject.substgroup.pojo.Info getEmployee()
+    {
+        return _employee;
+    }
+    
+    /**
+     * Sets the "employee" element
+     */
+    public void setEmployee(xmlobject.substgroup.pojo.Info employee)
+    {
+        this._employee = employee;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be employee(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static EmployeeDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        EmployeeDocument result = new EmployeeDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "employee");
+        {
+            result._employee = xmlobject.substgroup.pojo.Info.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static EmployeeDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static EmployeeDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static EmployeeDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._employee != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "employee", ns);
+            this._employee.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: footstool
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.FootstoolDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one footstool(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.FootstoolDocument.
+ */
+public class FootstoolDocument
+{
+    private java.lang.String _footstool;
+    
+    /**
+     * Gets the "footstool" element
+     */
+    public java.lang.String getFootstool()
+    {
+        return _footstool;
+    }
+    
+    /**
+     * Sets the "footstool" element
+     */
+    public void setFootstool(java.lang.String footstool)
+    {
+        this._footstool = footstool;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be footstool(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static FootstoolDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        FootstoolDocument result = new FootstoolDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "footstool");
+        {
+            result._footstool = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static FootstoolDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static FootstoolDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static FootstoolDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._footstool != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "footstool", ns);
+            writer.writeCharacters(this._footstool);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * XML Type:  info
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.Info
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * An XML info(@http://xmlobject/substgroup).
+ *
+ * This is a plain Java binding of xmlobject.substgroup.Info.
+ */
+public class Info
+{
+    private java.lang.String _string;
+    
+    /**
+     * Gets the "string" element
+     */
+    public java.lang.String getString()
+    {
+        return _string;
+    }
+    
+    /**
+     * Sets the "string" element
+     */
+    public void setString(java.lang.String string)
+    {
+        this._string = string;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static Info read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        Info result = new Info();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if (("stringSub".equals(local) && "http://xmlobject/substgroup".equals(uri)) || ("string".equals(local) && "http://xmlobject/substgroup".equals(uri)))
+            {
+                result._string = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._string != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "string", ns);
+            writer.writeCharacters(this._string);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: item
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.ItemDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one item(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.ItemDocument.
+ */
+public class ItemDocument
+{
+    private xmlobject.substgroup.pojo.ItemType _item;
+    
+    /**
+     * Gets the "item" element
+     */
+    public xmlobject.substgroup.pojo.ItemType getItem()
+    {
+        return _item;
+    }
+    
+    /**
+     * Sets the "item" element
+     */
+    public void setItem(xmlobject.substgroup.pojo.ItemType item)
+    {
+        this._item = item;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be item(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static ItemDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ItemDocument result = new ItemDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "item");
+        {
+            result._item = xmlobject.substgroup.pojo.ItemType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ItemDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ItemDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ItemDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._item != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "item", ns);
+            this._item.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
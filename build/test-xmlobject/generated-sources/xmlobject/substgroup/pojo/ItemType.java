@@ -0,0 +1,102 @@
+/*
+ * XML Type:  ItemType
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.ItemType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * An XML ItemType(@http://xmlobject/substgroup).
+ *
+ * This is a plain Java binding of xmlobject.substgroup.ItemType.
+ */
+public class ItemType
+{
+    private java.math.BigInteger _sku;
+    private java.lang.String _name;
+    
+    /**
+     * Gets the "sku" element
+     */
+    public java.math.BigInteger getSku()
+    {
+        return _sku;
+    }
+    
+    /**
+     * Sets the "sku" element
+     */
+    public void setSku(java.math.BigInteger sku)
+    {
+        this._sku = sku;
+    }
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        return _name;
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        this._name = name;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ItemType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ItemType result = new ItemType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("sku".equals(local) && "".equals(uri))
+            {
+                result._sku = reader.getBigIntegerValue();
+            }
+            else if ("name".equals(local) && "".equals(uri))
+            {
+                result._name = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._sku != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "sku", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._sku));
+            writer.writeEndElement();
+        }
+        if (this._name != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "", "name", ns);
+            writer.writeCharacters(this._name);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: notachair
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.NotachairDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one notachair(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.NotachairDocument.
+ */
+public class NotachairDocument
+{
+    private xmlobject.substgroup.pojo.ItemType _notachair;
+    
+    /**
+     * Gets the "notachair" element
+     */
+    public xmlobject.substgroup.pojo.ItemType getNotachair()
+    {
+        return _notachair;
+    }
+    
+    /**
+     * Sets the "notachair" element
+     */
+    public void setNotachair(xmlobject.substgroup.pojo.ItemType notachair)
+    {
+        this._notachair = notachair;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be notachair(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static NotachairDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        NotachairDocument result = new NotachairDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "notachair");
+        {
+            result._notachair = xmlobject.substgroup.pojo.ItemType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static NotachairDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static NotachairDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static NotachairDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._notachair != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "notachair", ns);
+            this._notachair.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * XML Type:  OrderItem
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.OrderItem
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * An XML OrderItem(@http://xmlobject/substgroup).
+ *
+ * This is a plain Java binding of xmlobject.substgroup.OrderItem.
+ */
+public class OrderItem
+{
+    private xmlobject.substgroup.pojo.ItemType _item;
+    
+    /**
+     * Gets the "item" element
+     */
+    public xmlobject.substgroup.pojo.ItemType getItem()
+    {
+        return _item;
+    }
+    
+    /**
+     * Sets the "item" element
+     */
+    public void setItem(xmlobject.substgroup.pojo.ItemType item)
+    {
+        this._item = item;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static OrderItem read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        OrderItem result = new OrderItem();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if (("beanBag".equals(local) && "http://xmlobject/substgroup".equals(uri)) || ("item".equals(local) && "http://xmlobject/substgroup".equals(uri)) || ("chair".equals(local) && "http://xmlobject/substgroup".equals(uri)))
+            {
+                result._item = xmlobject.substgroup.pojo.ItemType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._item != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "item", ns);
+            this._item.write(writer, "http://xmlobject/substgroup");
+            writer.writeEndElement();
+        }
+    }
+}
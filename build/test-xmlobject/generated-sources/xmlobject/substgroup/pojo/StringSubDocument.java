@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: stringSub
+ * Namespace: http://xmlobject/substgroup
+ * Java type: xmlobject.substgroup.pojo.StringSubDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobject.substgroup.pojo;
+
+/**
+ * A document containing one stringSub(@http://xmlobject/substgroup) element.
+ *
+ * This is a plain Java binding of xmlobject.substgroup.StringSubDocument.
+ */
+public class StringSubDocument
+{
+    private java.lang.String _stringSub;
+    
+    /**
+     * Gets the "stringSub" element
+     */
+    public java.lang.String getStringSub()
+    {
+        return _stringSub;
+    }
+    
+    /**
+     * Sets the "stringSub" element
+     */
+    public void setStringSub(java.lang.String stringSub)
+    {
+        this._stringSub = stringSub;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be stringSub(@http://xmlobject/substgroup), and leaves the reader on the end of
+     * that element.
+     */
+    public static StringSubDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        StringSubDocument result = new StringSubDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobject/substgroup", "stringSub");
+        {
+            result._stringSub = reader.getStringValue();
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static StringSubDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static StringSubDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static StringSubDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._stringSub != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobject/substgroup", "stringSub", ns);
+            writer.writeCharacters(this._stringSub);
+            writer.writeEndElement();
+        }
+    }
+}
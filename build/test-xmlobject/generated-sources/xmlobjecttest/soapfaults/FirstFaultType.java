@@ -0,0 +1,156 @@
+/*
+ * XML Type:  first-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.FirstFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults;
+
+
+/**
+ * An XML first-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a complex type.
+ */
+public interface FirstFaultType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FirstFaultType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("firstfaulttype1220type");
+    
+    /**
+     * Gets the "a-string" element
+     */
+    java.lang.String getAString();
+    
+    /**
+     * Gets (as xml) the "a-string" element
+     */
+    org.apache.xmlbeans.XmlString xgetAString();
+    
+    /**
+     * Sets the "a-string" element
+     */
+    void setAString(java.lang.String aString);
+    
+    /**
+     * Sets (as xml) the "a-string" element
+     */
+    void xsetAString(org.apache.xmlbeans.XmlString aString);
+    
+    /**
+     * Gets the "a-int" element
+     */
+    int getAInt();
+    
+    /**
+     * Gets (as xml) the "a-int" element
+     */
+    org.apache.xmlbeans.XmlInt xgetAInt();
+    
+    /**
+     * Sets the "a-int" element
+     */
+    void setAInt(int aInt);
+    
+    /**
+     * Sets (as xml) the "a-int" element
+     */
+    void xsetAInt(org.apache.xmlbeans.XmlInt aInt);
+    
+    /**
+     * Gets the "a-date" element
+     */
+    java.util.Calendar getADate();
+    
+    /**
+     * Gets (as xml) the "a-date" element
+     */
+    org.apache.xmlbeans.XmlDate xgetADate();
+    
+    /**
+     * Sets the "a-date" element
+     */
+    void setADate(java.util.Calendar aDate);
+    
+    /**
+     * Sets (as xml) the "a-date" element
+     */
+    void xsetADate(org.apache.xmlbeans.XmlDate aDate);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlobjecttest.soapfaults.FirstFaultType newInstance() {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobjecttest.soapfaults.FirstFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobjecttest.soapfaults.FirstFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * XML Type:  second-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.SecondFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults;
+
+
+/**
+ * An XML second-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a complex type.
+ */
+public interface SecondFaultType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SecondFaultType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sXMLOBJECT").resolveHandle("secondfaulttyped22atype");
+    
+    /**
+     * Gets array of all "a-fault-item" elements
+     */
+    java.lang.String[] getAFaultItemArray();
+    
+    /**
+     * Gets ith "a-fault-item" element
+     */
+    java.lang.String getAFaultItemArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "a-fault-item" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetAFaultItemArray();
+    
+    /**
+     * Gets (as xml) ith "a-fault-item" element
+     */
+    org.apache.xmlbeans.XmlString xgetAFaultItemArray(int i);
+    
+    /**
+     * Returns number of "a-fault-item" element
+     */
+    int sizeOfAFaultItemArray();
+    
+    /**
+     * Sets array of all "a-fault-item" element
+     */
+    void setAFaultItemArray(java.lang.String[] aFaultItemArray);
+    
+    /**
+     * Sets ith "a-fault-item" element
+     */
+    void setAFaultItemArray(int i, java.lang.String aFaultItem);
+    
+    /**
+     * Sets (as xml) array of all "a-fault-item" element
+     */
+    void xsetAFaultItemArray(org.apache.xmlbeans.XmlString[] aFaultItemArray);
+    
+    /**
+     * Sets (as xml) ith "a-fault-item" element
+     */
+    void xsetAFaultItemArray(int i, org.apache.xmlbeans.XmlString aFaultItem);
+    
+    /**
+     * Inserts the value as the ith "a-fault-item" element
+     */
+    void insertAFaultItem(int i, java.lang.String aFaultItem);
+    
+    /**
+     * Appends the value as the last "a-fault-item" element
+     */
+    void addAFaultItem(java.lang.String aFaultItem);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a-fault-item" element
+     */
+    org.apache.xmlbeans.XmlString insertNewAFaultItem(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a-fault-item" element
+     */
+    org.apache.xmlbeans.XmlString addNewAFaultItem();
+    
+    /**
+     * Removes the ith "a-fault-item" element
+     */
+    void removeAFaultItem(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static xmlobjecttest.soapfaults.SecondFaultType newInstance() {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static xmlobjecttest.soapfaults.SecondFaultType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (xmlobjecttest.soapfaults.SecondFaultType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
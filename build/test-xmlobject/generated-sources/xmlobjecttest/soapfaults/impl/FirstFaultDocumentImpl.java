@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: first-fault
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.FirstFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.impl;
+/**
+ * A document containing one first-fault(@http://xmlobjecttest/soapfaults) element.
+ *
+ * This is a complex type.
+ */
+public class FirstFaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobjecttest.soapfaults.FirstFaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FirstFaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FIRSTFAULT$0 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "first-fault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2134418235:
+                if (name.equals(FIRSTFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "first-fault" element
+     */
+    public xmlobjecttest.soapfaults.FirstFaultType getFirstFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobjecttest.soapfaults.FirstFaultType target = null;
+            target = (xmlobjecttest.soapfaults.FirstFaultType)get_store().find_element_user(FIRSTFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "first-fault" element
+     */
+    public void setFirstFault(xmlobjecttest.soapfaults.FirstFaultType firstFault)
+    {
+        generatedSetterHelperImpl(firstFault, FIRSTFAULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "first-fault" element
+     */
+    public xmlobjecttest.soapfaults.FirstFaultType addNewFirstFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobjecttest.soapfaults.FirstFaultType target = null;
+            target = (xmlobjecttest.soapfaults.FirstFaultType)get_store().add_element_user(FIRSTFAULT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * XML Type:  first-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.FirstFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.impl;
+/**
+ * An XML first-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a complex type.
+ */
+public class FirstFaultTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobjecttest.soapfaults.FirstFaultType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FirstFaultTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ASTRING$0 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "a-string");
+    private static final javax.xml.namespace.QName AINT$2 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "a-int");
+    private static final javax.xml.namespace.QName ADATE$4 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "a-date");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1473305190:
+                if (name.equals(ADATE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 91026563:
+                if (name.equals(AINT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1939852029:
+                if (name.equals(ASTRING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "a-string" element
+     */
+    public java.lang.String getAString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ASTRING$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a-string" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAString()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ASTRING$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a-string" element
+     */
+    public void setAString(java.lang.String aString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ASTRING$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ASTRING$0);
+            }
+            target.setStringValue(aString);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a-string" element
+     */
+    public void xsetAString(org.apache.xmlbeans.XmlString aString)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ASTRING$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ASTRING$0);
+            }
+            target.set(aString);
+        }
+    }
+    
+    /**
+     * Gets the "a-int" element
+     */
+    public int getAInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(AINT$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AINT$2, 0);
+            if (target == null)
+            {
+                return 0;
+            }
+            return target.getIntValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a-int" element
+     */
+    public org.apache.xmlbeans.XmlInt xgetAInt()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(AINT$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a-int" element
+     */
+    public void setAInt(int aInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AINT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AINT$2);
+            }
+            target.setIntValue(aInt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a-int" element
+     */
+    public void xsetAInt(org.apache.xmlbeans.XmlInt aInt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInt target = null;
+            target = (org.apache.xmlbeans.XmlInt)get_store().find_element_user(AINT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInt)get_store().add_element_user(AINT$2);
+            }
+            target.set(aInt);
+        }
+    }
+    
+    /**
+     * Gets the "a-date" element
+     */
+    public java.util.Calendar getADate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADATE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "a-date" element
+     */
+    public org.apache.xmlbeans.XmlDate xgetADate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(ADATE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "a-date" element
+     */
+    public void setADate(java.util.Calendar aDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADATE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ADATE$4);
+            }
+            target.setCalendarValue(aDate);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "a-date" element
+     */
+    public void xsetADate(org.apache.xmlbeans.XmlDate aDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(ADATE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(ADATE$4);
+            }
+            target.set(aDate);
+        }
+    }
+}
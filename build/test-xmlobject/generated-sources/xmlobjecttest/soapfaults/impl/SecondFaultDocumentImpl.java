@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: second-fault
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.SecondFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.impl;
+/**
+ * A document containing one second-fault(@http://xmlobjecttest/soapfaults) element.
+ *
+ * This is a complex type.
+ */
+public class SecondFaultDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobjecttest.soapfaults.SecondFaultDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SecondFaultDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SECONDFAULT$0 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "second-fault");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1805620343:
+                if (name.equals(SECONDFAULT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "second-fault" element
+     */
+    public xmlobjecttest.soapfaults.SecondFaultType getSecondFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobjecttest.soapfaults.SecondFaultType target = null;
+            target = (xmlobjecttest.soapfaults.SecondFaultType)get_store().find_element_user(SECONDFAULT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "second-fault" element
+     */
+    public void setSecondFault(xmlobjecttest.soapfaults.SecondFaultType secondFault)
+    {
+        generatedSetterHelperImpl(secondFault, SECONDFAULT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "second-fault" element
+     */
+    public xmlobjecttest.soapfaults.SecondFaultType addNewSecondFault()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            xmlobjecttest.soapfaults.SecondFaultType target = null;
+            target = (xmlobjecttest.soapfaults.SecondFaultType)get_store().add_element_user(SECONDFAULT$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * XML Type:  second-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.SecondFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.impl;
+/**
+ * An XML second-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a complex type.
+ */
+public class SecondFaultTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements xmlobjecttest.soapfaults.SecondFaultType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SecondFaultTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AFAULTITEM$0 = 
+        new javax.xml.namespace.QName("http://xmlobjecttest/soapfaults", "a-fault-item");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 761035978:
+                if (name.equals(AFAULTITEM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "a-fault-item" elements
+     */
+    public java.lang.String[] getAFaultItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(AFAULTITEM$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "a-fault-item" element
+     */
+    public java.lang.String getAFaultItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AFAULTITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "a-fault-item" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetAFaultItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(AFAULTITEM$0, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "a-fault-item" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAFaultItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AFAULTITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "a-fault-item" element
+     */
+    public int sizeOfAFaultItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(AFAULTITEM$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "a-fault-item" element
+     */
+    public void setAFaultItemArray(java.lang.String[] aFaultItemArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(aFaultItemArray, AFAULTITEM$0);
+        }
+    }
+    
+    /**
+     * Sets ith "a-fault-item" element
+     */
+    public void setAFaultItemArray(int i, java.lang.String aFaultItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AFAULTITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(aFaultItem);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "a-fault-item" element
+     */
+    public void xsetAFaultItemArray(org.apache.xmlbeans.XmlString[]aFaultItemArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(aFaultItemArray, AFAULTITEM$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "a-fault-item" element
+     */
+    public void xsetAFaultItemArray(int i, org.apache.xmlbeans.XmlString aFaultItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AFAULTITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(aFaultItem);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "a-fault-item" element
+     */
+    public void insertAFaultItem(int i, java.lang.String aFaultItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(AFAULTITEM$0, i);
+            target.setStringValue(aFaultItem);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "a-fault-item" element
+     */
+    public void addAFaultItem(java.lang.String aFaultItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AFAULTITEM$0);
+            target.setStringValue(aFaultItem);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "a-fault-item" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewAFaultItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(AFAULTITEM$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "a-fault-item" element
+     */
+    public org.apache.xmlbeans.XmlString addNewAFaultItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AFAULTITEM$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "a-fault-item" element
+     */
+    public void removeAFaultItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(AFAULTITEM$0, i);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: first-fault
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.pojo.FirstFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.pojo;
+
+/**
+ * A document containing one first-fault(@http://xmlobjecttest/soapfaults) element.
+ *
+ * This is a plain Java binding of xmlobjecttest.soapfaults.FirstFaultDocument.
+ */
+public class FirstFaultDocument
+{
+    private xmlobjecttest.soapfaults.pojo.FirstFaultType _firstFault;
+    
+    /**
+     * Gets the "first-fault" element
+     */
+    public xmlobjecttest.soapfaults.pojo.FirstFaultType getFirstFault()
+    {
+        return _firstFault;
+    }
+    
+    /**
+     * Sets the "first-fault" element
+     */
+    public void setFirstFault(xmlobjecttest.soapfaults.pojo.FirstFaultType firstFault)
+    {
+        this._firstFault = firstFault;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be first-fault(@http://xmlobjecttest/soapfaults), and leaves the reader on the end of
+     * that element.
+     */
+    public static FirstFaultDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        FirstFaultDocument result = new FirstFaultDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobjecttest/soapfaults", "first-fault");
+        {
+            result._firstFault = xmlobjecttest.soapfaults.pojo.FirstFaultType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static FirstFaultDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static FirstFaultDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static FirstFaultDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._firstFault != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "first-fault", ns);
+            this._firstFault.write(writer, "http://xmlobjecttest/soapfaults");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * XML Type:  first-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.pojo.FirstFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.pojo;
+
+/**
+ * An XML first-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a plain Java binding of xmlobjecttest.soapfaults.FirstFaultType.
+ */
+public class FirstFaultType
+{
+    private java.lang.String _aString;
+    private int _aInt;
+    private java.util.Calendar _aDate;
+    
+    /**
+     * Gets the "a-string" element
+     */
+    public java.lang.String getAString()
+    {
+        return _aString;
+    }
+    
+    /**
+     * Sets the "a-string" element
+     */
+    public void setAString(java.lang.String aString)
+    {
+        this._aString = aString;
+    }
+    
+    /**
+     * Gets the "a-int" element
+     */
+    public int getAInt()
+    {
+        return _aInt;
+    }
+    
+    /**
+     * Sets the "a-int" element
+     */
+    public void setAInt(int aInt)
+    {
+        this._aInt = aInt;
+    }
+    
+    /**
+     * Gets the "a-date" element
+     */
+    public java.util.Calendar getADate()
+    {
+        return _aDate;
+    }
+    
+    /**
+     * Sets the "a-date" element
+     */
+    public void setADate(java.util.Calendar aDate)
+    {
+        this._aDate = aDate;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static FirstFaultType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        FirstFaultType result = new FirstFaultType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("a-string".equals(local) && "http://xmlobjecttest/soapfaults".equals(uri))
+            {
+                result._aString = reader.getStringValue();
+            }
+            else if ("a-int".equals(local) && "http://xmlobjecttest/soapfaults".equals(uri))
+            {
+                result._aInt = reader.getIntValue();
+            }
+            else if ("a-date".equals(local) && "http://xmlobjecttest/soapfaults".equals(uri))
+            {
+                result._aDate = reader.getCalendarValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._aString != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "a-string", ns);
+            writer.writeCharacters(this._aString);
+            writer.writeEndElement();
+        }
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "a-int", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInt(this._aInt));
+            writer.writeEndElement();
+        }
+        if (this._aDate != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "a-date", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.richParser.BindingSupport.printCalendar(this._aDate, 16));
+            writer.writeEndElement();
+        }
+    }
+}
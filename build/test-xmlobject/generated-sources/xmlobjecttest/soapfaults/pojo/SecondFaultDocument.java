@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: second-fault
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.pojo.SecondFaultDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.pojo;
+
+/**
+ * A document containing one second-fault(@http://xmlobjecttest/soapfaults) element.
+ *
+ * This is a plain Java binding of xmlobjecttest.soapfaults.SecondFaultDocument.
+ */
+public class SecondFaultDocument
+{
+    private xmlobjecttest.soapfaults.pojo.SecondFaultType _secondFault;
+    
+    /**
+     * Gets the "second-fault" element
+     */
+    public xmlobjecttest.soapfaults.pojo.SecondFaultType getSecondFault()
+    {
+        return _secondFault;
+    }
+    
+    /**
+     * Sets the "second-fault" element
+     */
+    public void setSecondFault(xmlobjecttest.soapfaults.pojo.SecondFaultType secondFault)
+    {
+        this._secondFault = secondFault;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be second-fault(@http://xmlobjecttest/soapfaults), and leaves the reader on the end of
+     * that element.
+     */
+    public static SecondFaultDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SecondFaultDocument result = new SecondFaultDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://xmlobjecttest/soapfaults", "second-fault");
+        {
+            result._secondFault = xmlobjecttest.soapfaults.pojo.SecondFaultType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static SecondFaultDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static SecondFaultDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static SecondFaultDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._secondFault != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "second-fault", ns);
+            this._secondFault.write(writer, "http://xmlobjecttest/soapfaults");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * XML Type:  second-fault-type
+ * Namespace: http://xmlobjecttest/soapfaults
+ * Java type: xmlobjecttest.soapfaults.pojo.SecondFaultType
+ *
+ * Automatically generated - do not modify.
+ */
+package xmlobjecttest.soapfaults.pojo;
+
+/**
+ * An XML second-fault-type(@http://xmlobjecttest/soapfaults).
+ *
+ * This is a plain Java binding of xmlobjecttest.soapfaults.SecondFaultType.
+ */
+public class SecondFaultType
+{
+    private java.lang.String[] _aFaultItem;
+    
+    /**
+     * Gets array of all "a-fault-item" elements
+     */
+    public java.lang.String[] getAFaultItemArray()
+    {
+        return _aFaultItem;
+    }
+    
+    /**
+     * Sets array of all "a-fault-item" elements
+     */
+    public void setAFaultItemArray(java.lang.String[] aFaultItem)
+    {
+        this._aFaultItem = aFaultItem;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static SecondFaultType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SecondFaultType result = new SecondFaultType();
+        java.lang.String[] aFaultItemArray = new java.lang.String[0]; int aFaultItemCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("a-fault-item".equals(local) && "http://xmlobjecttest/soapfaults".equals(uri))
+            {
+                if (aFaultItemCount == aFaultItemArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[aFaultItemCount * 2 + 4];
+                    java.lang.System.arraycopy(aFaultItemArray, 0, grown, 0, aFaultItemCount);
+                    aFaultItemArray = grown;
+                }
+                aFaultItemArray[aFaultItemCount++] = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (aFaultItemCount != aFaultItemArray.length)
+        {
+            result._aFaultItem = new java.lang.String[aFaultItemCount];
+            java.lang.System.arraycopy(aFaultItemArray, 0, result._aFaultItem, 0, aFaultItemCount);
+        }
+        else
+            result._aFaultItem = aFaultItemArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._aFaultItem != null)
+        {
+            for (int i = 0; i < this._aFaultItem.length; i++)
+            {
+                if (this._aFaultItem[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://xmlobjecttest/soapfaults", "a-fault-item", ns);
+                    writer.writeCharacters(this._aFaultItem[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  orderTypeCodedType
+ * Namespace: http://www.example.com/IPO
+ * Java type: com.example.ipo.OrderTypeCodedType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.example.ipo.impl;
+/**
+ * An XML orderTypeCodedType(@http://www.example.com/IPO).
+ *
+ * This is an atomic type that is a restriction of com.example.ipo.OrderTypeCodedType.
+ */
+public class OrderTypeCodedTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.example.ipo.OrderTypeCodedType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
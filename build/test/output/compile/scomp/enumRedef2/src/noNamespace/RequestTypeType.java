@@ -0,0 +1,311 @@
+/*
+ * XML Type:  requestTypeType
+ * Namespace: 
+ * Java type: noNamespace.RequestTypeType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * An XML requestTypeType(@).
+ *
+ * This is a complex type.
+ */
+public interface RequestTypeType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RequestTypeType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sCE73ED4FB2537340CDCB33285B78FA9E").resolveHandle("requesttypetype73batype");
+    
+    /**
+     * Gets the "orderTypeCoded" element
+     */
+    noNamespace.OrderTypeCodedType.Enum getOrderTypeCoded();
+    
+    /**
+     * Gets (as xml) the "orderTypeCoded" element
+     */
+    noNamespace.OrderTypeCodedType xgetOrderTypeCoded();
+    
+    /**
+     * True if has "orderTypeCoded" element
+     */
+    boolean isSetOrderTypeCoded();
+    
+    /**
+     * Sets the "orderTypeCoded" element
+     */
+    void setOrderTypeCoded(noNamespace.OrderTypeCodedType.Enum orderTypeCoded);
+    
+    /**
+     * Sets (as xml) the "orderTypeCoded" element
+     */
+    void xsetOrderTypeCoded(noNamespace.OrderTypeCodedType orderTypeCoded);
+    
+    /**
+     * Unsets the "orderTypeCoded" element
+     */
+    void unsetOrderTypeCoded();
+    
+    /**
+     * Gets the "miscServices" element
+     */
+    noNamespace.MiscServicesType.Enum getMiscServices();
+    
+    /**
+     * Gets (as xml) the "miscServices" element
+     */
+    noNamespace.MiscServicesType xgetMiscServices();
+    
+    /**
+     * True if has "miscServices" element
+     */
+    boolean isSetMiscServices();
+    
+    /**
+     * Sets the "miscServices" element
+     */
+    void setMiscServices(noNamespace.MiscServicesType.Enum miscServices);
+    
+    /**
+     * Sets (as xml) the "miscServices" element
+     */
+    void xsetMiscServices(noNamespace.MiscServicesType miscServices);
+    
+    /**
+     * Unsets the "miscServices" element
+     */
+    void unsetMiscServices();
+    
+    /**
+     * Gets the "productVldtn" element
+     */
+    java.lang.String getProductVldtn();
+    
+    /**
+     * Gets (as xml) the "productVldtn" element
+     */
+    org.apache.xmlbeans.XmlString xgetProductVldtn();
+    
+    /**
+     * True if has "productVldtn" element
+     */
+    boolean isSetProductVldtn();
+    
+    /**
+     * Sets the "productVldtn" element
+     */
+    void setProductVldtn(java.lang.String productVldtn);
+    
+    /**
+     * Sets (as xml) the "productVldtn" element
+     */
+    void xsetProductVldtn(org.apache.xmlbeans.XmlString productVldtn);
+    
+    /**
+     * Unsets the "productVldtn" element
+     */
+    void unsetProductVldtn();
+    
+    /**
+     * Gets the "custProfileQuery" element
+     */
+    org.apache.xmlbeans.XmlObject getCustProfileQuery();
+    
+    /**
+     * True if has "custProfileQuery" element
+     */
+    boolean isSetCustProfileQuery();
+    
+    /**
+     * Sets the "custProfileQuery" element
+     */
+    void setCustProfileQuery(org.apache.xmlbeans.XmlObject custProfileQuery);
+    
+    /**
+     * Appends and returns a new empty "custProfileQuery" element
+     */
+    org.apache.xmlbeans.XmlObject addNewCustProfileQuery();
+    
+    /**
+     * Unsets the "custProfileQuery" element
+     */
+    void unsetCustProfileQuery();
+    
+    /**
+     * Gets the "banClosure" element
+     */
+    org.apache.xmlbeans.XmlObject getBanClosure();
+    
+    /**
+     * True if has "banClosure" element
+     */
+    boolean isSetBanClosure();
+    
+    /**
+     * Sets the "banClosure" element
+     */
+    void setBanClosure(org.apache.xmlbeans.XmlObject banClosure);
+    
+    /**
+     * Appends and returns a new empty "banClosure" element
+     */
+    org.apache.xmlbeans.XmlObject addNewBanClosure();
+    
+    /**
+     * Unsets the "banClosure" element
+     */
+    void unsetBanClosure();
+    
+    /**
+     * Gets the "qualification" element
+     */
+    org.apache.xmlbeans.XmlObject getQualification();
+    
+    /**
+     * True if has "qualification" element
+     */
+    boolean isSetQualification();
+    
+    /**
+     * Sets the "qualification" element
+     */
+    void setQualification(org.apache.xmlbeans.XmlObject qualification);
+    
+    /**
+     * Appends and returns a new empty "qualification" element
+     */
+    org.apache.xmlbeans.XmlObject addNewQualification();
+    
+    /**
+     * Unsets the "qualification" element
+     */
+    void unsetQualification();
+    
+    /**
+     * Gets the "dataOrderList" element
+     */
+    org.apache.xmlbeans.XmlObject getDataOrderList();
+    
+    /**
+     * True if has "dataOrderList" element
+     */
+    boolean isSetDataOrderList();
+    
+    /**
+     * Sets the "dataOrderList" element
+     */
+    void setDataOrderList(org.apache.xmlbeans.XmlObject dataOrderList);
+    
+    /**
+     * Appends and returns a new empty "dataOrderList" element
+     */
+    org.apache.xmlbeans.XmlObject addNewDataOrderList();
+    
+    /**
+     * Unsets the "dataOrderList" element
+     */
+    void unsetDataOrderList();
+    
+    /**
+     * Gets the "serviceAddressQuery" element
+     */
+    org.apache.xmlbeans.XmlObject getServiceAddressQuery();
+    
+    /**
+     * True if has "serviceAddressQuery" element
+     */
+    boolean isSetServiceAddressQuery();
+    
+    /**
+     * Sets the "serviceAddressQuery" element
+     */
+    void setServiceAddressQuery(org.apache.xmlbeans.XmlObject serviceAddressQuery);
+    
+    /**
+     * Appends and returns a new empty "serviceAddressQuery" element
+     */
+    org.apache.xmlbeans.XmlObject addNewServiceAddressQuery();
+    
+    /**
+     * Unsets the "serviceAddressQuery" element
+     */
+    void unsetServiceAddressQuery();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.RequestTypeType newInstance() {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.RequestTypeType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.RequestTypeType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.RequestTypeType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.RequestTypeType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.RequestTypeType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.RequestTypeType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.RequestTypeType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.RequestTypeType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.RequestTypeType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.RequestTypeType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.RequestTypeType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.RequestTypeType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  miscServicesType
+ * Namespace: 
+ * Java type: noNamespace.MiscServicesType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML miscServicesType(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.MiscServicesType.
+ */
+public class MiscServicesTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.MiscServicesType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MiscServicesTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected MiscServicesTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
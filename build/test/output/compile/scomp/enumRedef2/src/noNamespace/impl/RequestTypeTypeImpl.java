@@ -0,0 +1,636 @@
+/*
+ * XML Type:  requestTypeType
+ * Namespace: 
+ * Java type: noNamespace.RequestTypeType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML requestTypeType(@).
+ *
+ * This is a complex type.
+ */
+public class RequestTypeTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RequestTypeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RequestTypeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ORDERTYPECODED$0 = 
+        new javax.xml.namespace.QName("", "orderTypeCoded");
+    private static final javax.xml.namespace.QName MISCSERVICES$2 = 
+        new javax.xml.namespace.QName("", "miscServices");
+    private static final javax.xml.namespace.QName PRODUCTVLDTN$4 = 
+        new javax.xml.namespace.QName("", "productVldtn");
+    private static final javax.xml.namespace.QName CUSTPROFILEQUERY$6 = 
+        new javax.xml.namespace.QName("", "custProfileQuery");
+    private static final javax.xml.namespace.QName BANCLOSURE$8 = 
+        new javax.xml.namespace.QName("", "banClosure");
+    private static final javax.xml.namespace.QName QUALIFICATION$10 = 
+        new javax.xml.namespace.QName("", "qualification");
+    private static final javax.xml.namespace.QName DATAORDERLIST$12 = 
+        new javax.xml.namespace.QName("", "dataOrderList");
+    private static final javax.xml.namespace.QName SERVICEADDRESSQUERY$14 = 
+        new javax.xml.namespace.QName("", "serviceAddressQuery");
+    
+    
+    /**
+     * Gets the "orderTypeCoded" element
+     */
+    public noNamespace.OrderTypeCodedType.Enum getOrderTypeCoded()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERTYPECODED$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.OrderTypeCodedType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "orderTypeCoded" element
+     */
+    public noNamespace.OrderTypeCodedType xgetOrderTypeCoded()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.OrderTypeCodedType target = null;
+            target = (noNamespace.OrderTypeCodedType)get_store().find_element_user(ORDERTYPECODED$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "orderTypeCoded" element
+     */
+    public boolean isSetOrderTypeCoded()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ORDERTYPECODED$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "orderTypeCoded" element
+     */
+    public void setOrderTypeCoded(noNamespace.OrderTypeCodedType.Enum orderTypeCoded)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ORDERTYPECODED$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ORDERTYPECODED$0);
+            }
+            target.setEnumValue(orderTypeCoded);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "orderTypeCoded" element
+     */
+    public void xsetOrderTypeCoded(noNamespace.OrderTypeCodedType orderTypeCoded)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.OrderTypeCodedType target = null;
+            target = (noNamespace.OrderTypeCodedType)get_store().find_element_user(ORDERTYPECODED$0, 0);
+            if (target == null)
+            {
+                target = (noNamespace.OrderTypeCodedType)get_store().add_element_user(ORDERTYPECODED$0);
+            }
+            target.set(orderTypeCoded);
+        }
+    }
+    
+    /**
+     * Unsets the "orderTypeCoded" element
+     */
+    public void unsetOrderTypeCoded()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ORDERTYPECODED$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "miscServices" element
+     */
+    public noNamespace.MiscServicesType.Enum getMiscServices()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MISCSERVICES$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (noNamespace.MiscServicesType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "miscServices" element
+     */
+    public noNamespace.MiscServicesType xgetMiscServices()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.MiscServicesType target = null;
+            target = (noNamespace.MiscServicesType)get_store().find_element_user(MISCSERVICES$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "miscServices" element
+     */
+    public boolean isSetMiscServices()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MISCSERVICES$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "miscServices" element
+     */
+    public void setMiscServices(noNamespace.MiscServicesType.Enum miscServices)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MISCSERVICES$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MISCSERVICES$2);
+            }
+            target.setEnumValue(miscServices);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "miscServices" element
+     */
+    public void xsetMiscServices(noNamespace.MiscServicesType miscServices)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.MiscServicesType target = null;
+            target = (noNamespace.MiscServicesType)get_store().find_element_user(MISCSERVICES$2, 0);
+            if (target == null)
+            {
+                target = (noNamespace.MiscServicesType)get_store().add_element_user(MISCSERVICES$2);
+            }
+            target.set(miscServices);
+        }
+    }
+    
+    /**
+     * Unsets the "miscServices" element
+     */
+    public void unsetMiscServices()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MISCSERVICES$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "productVldtn" element
+     */
+    public java.lang.String getProductVldtn()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTVLDTN$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "productVldtn" element
+     */
+    public org.apache.xmlbeans.XmlString xgetProductVldtn()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTVLDTN$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "productVldtn" element
+     */
+    public boolean isSetProductVldtn()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PRODUCTVLDTN$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "productVldtn" element
+     */
+    public void setProductVldtn(java.lang.String productVldtn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTVLDTN$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRODUCTVLDTN$4);
+            }
+            target.setStringValue(productVldtn);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "productVldtn" element
+     */
+    public void xsetProductVldtn(org.apache.xmlbeans.XmlString productVldtn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTVLDTN$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(PRODUCTVLDTN$4);
+            }
+            target.set(productVldtn);
+        }
+    }
+    
+    /**
+     * Unsets the "productVldtn" element
+     */
+    public void unsetProductVldtn()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PRODUCTVLDTN$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "custProfileQuery" element
+     */
+    public org.apache.xmlbeans.XmlObject getCustProfileQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(CUSTPROFILEQUERY$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "custProfileQuery" element
+     */
+    public boolean isSetCustProfileQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CUSTPROFILEQUERY$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "custProfileQuery" element
+     */
+    public void setCustProfileQuery(org.apache.xmlbeans.XmlObject custProfileQuery)
+    {
+        generatedSetterHelperImpl(custProfileQuery, CUSTPROFILEQUERY$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "custProfileQuery" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewCustProfileQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(CUSTPROFILEQUERY$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "custProfileQuery" element
+     */
+    public void unsetCustProfileQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CUSTPROFILEQUERY$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "banClosure" element
+     */
+    public org.apache.xmlbeans.XmlObject getBanClosure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(BANCLOSURE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "banClosure" element
+     */
+    public boolean isSetBanClosure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(BANCLOSURE$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "banClosure" element
+     */
+    public void setBanClosure(org.apache.xmlbeans.XmlObject banClosure)
+    {
+        generatedSetterHelperImpl(banClosure, BANCLOSURE$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "banClosure" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewBanClosure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(BANCLOSURE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "banClosure" element
+     */
+    public void unsetBanClosure()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(BANCLOSURE$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "qualification" element
+     */
+    public org.apache.xmlbeans.XmlObject getQualification()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(QUALIFICATION$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "qualification" element
+     */
+    public boolean isSetQualification()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(QUALIFICATION$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "qualification" element
+     */
+    public void setQualification(org.apache.xmlbeans.XmlObject qualification)
+    {
+        generatedSetterHelperImpl(qualification, QUALIFICATION$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "qualification" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewQualification()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(QUALIFICATION$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "qualification" element
+     */
+    public void unsetQualification()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(QUALIFICATION$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "dataOrderList" element
+     */
+    public org.apache.xmlbeans.XmlObject getDataOrderList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(DATAORDERLIST$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "dataOrderList" element
+     */
+    public boolean isSetDataOrderList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DATAORDERLIST$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "dataOrderList" element
+     */
+    public void setDataOrderList(org.apache.xmlbeans.XmlObject dataOrderList)
+    {
+        generatedSetterHelperImpl(dataOrderList, DATAORDERLIST$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "dataOrderList" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewDataOrderList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(DATAORDERLIST$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "dataOrderList" element
+     */
+    public void unsetDataOrderList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DATAORDERLIST$12, 0);
+        }
+    }
+    
+    /**
+     * Gets the "serviceAddressQuery" element
+     */
+    public org.apache.xmlbeans.XmlObject getServiceAddressQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(SERVICEADDRESSQUERY$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "serviceAddressQuery" element
+     */
+    public boolean isSetServiceAddressQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVICEADDRESSQUERY$14) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "serviceAddressQuery" element
+     */
+    public void setServiceAddressQuery(org.apache.xmlbeans.XmlObject serviceAddressQuery)
+    {
+        generatedSetterHelperImpl(serviceAddressQuery, SERVICEADDRESSQUERY$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "serviceAddressQuery" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewServiceAddressQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(SERVICEADDRESSQUERY$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "serviceAddressQuery" element
+     */
+    public void unsetServiceAddressQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVICEADDRESSQUERY$14, 0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  orderTypeCodedType
+ * Namespace: 
+ * Java type: noNamespace.OrderTypeCodedType
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML orderTypeCodedType(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.OrderTypeCodedType.
+ */
+public class OrderTypeCodedTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.OrderTypeCodedType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
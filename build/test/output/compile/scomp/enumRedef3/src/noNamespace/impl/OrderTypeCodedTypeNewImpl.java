@@ -0,0 +1,27 @@
+/*
+ * XML Type:  orderTypeCodedTypeNew
+ * Namespace: 
+ * Java type: noNamespace.OrderTypeCodedTypeNew
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML orderTypeCodedTypeNew(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.OrderTypeCodedTypeNew.
+ */
+public class OrderTypeCodedTypeNewImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements noNamespace.OrderTypeCodedTypeNew
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderTypeCodedTypeNewImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected OrderTypeCodedTypeNewImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * An XML document type.
+ * Localname: purchase-order
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo.impl;
+/**
+ * A document containing one purchase-order(@http://openuri.org/easypo) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "purchase-order");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 475208578:
+                if (name.equals(PURCHASEORDER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "purchase-order" element
+     */
+    public org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder getPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder target = null;
+            target = (org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder)get_store().find_element_user(PURCHASEORDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "purchase-order" element
+     */
+    public void setPurchaseOrder(org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder purchaseOrder)
+    {
+        generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchase-order" element
+     */
+    public org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder addNewPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder target = null;
+            target = (org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder)get_store().add_element_user(PURCHASEORDER$0);
+            return target;
+        }
+    }
+    /**
+     * An XML purchase-order(@http://openuri.org/easypo).
+     *
+     * This is a complex type.
+     */
+    public static class PurchaseOrderImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PurchaseOrderImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CUSTOMER$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "customer");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "date");
+        private static final javax.xml.namespace.QName LINEITEM$4 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "line-item");
+        private static final javax.xml.namespace.QName SHIPPER$6 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "shipper");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(4);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1842559668:
+                    if (name.equals(LINEITEM$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 3076014:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 606175198:
+                    if (name.equals(CUSTOMER$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 2061557089:
+                    if (name.equals(SHIPPER$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "customer" element
+         */
+        public org.openuri.easypo.Customer getCustomer()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.Customer target = null;
+                target = (org.openuri.easypo.Customer)get_store().find_element_user(CUSTOMER$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "customer" element
+         */
+        public void setCustomer(org.openuri.easypo.Customer customer)
+        {
+            generatedSetterHelperImpl(customer, CUSTOMER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "customer" element
+         */
+        public org.openuri.easypo.Customer addNewCustomer()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.Customer target = null;
+                target = (org.openuri.easypo.Customer)get_store().add_element_user(CUSTOMER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "date" element
+         */
+        public org.apache.xmlbeans.XmlDateTime xgetDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+                }
+                target.setCalendarValue(date);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDateTime date)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDateTime target = null;
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(DATE$2);
+                }
+                target.set(date);
+            }
+        }
+        
+        /**
+         * Gets array of all "line-item" elements
+         */
+        public org.openuri.easypo.LineItem[] getLineItemArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(LINEITEM$4, targetList);
+                org.openuri.easypo.LineItem[] result = new org.openuri.easypo.LineItem[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "line-item" element
+         */
+        public org.openuri.easypo.LineItem getLineItemArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.LineItem target = null;
+                target = (org.openuri.easypo.LineItem)get_store().find_element_user(LINEITEM$4, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "line-item" element
+         */
+        public int sizeOfLineItemArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LINEITEM$4);
+            }
+        }
+        
+        /**
+         * Sets array of all "line-item" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setLineItemArray(org.openuri.easypo.LineItem[] lineItemArray)
+        {
+            check_orphaned();
+            arraySetterHelper(lineItemArray, LINEITEM$4);
+        }
+        
+        /**
+         * Sets ith "line-item" element
+         */
+        public void setLineItemArray(int i, org.openuri.easypo.LineItem lineItem)
+        {
+            generatedSetterHelperImpl(lineItem, LINEITEM$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "line-item" element
+         */
+        public org.openuri.easypo.LineItem insertNewLineItem(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.LineItem target = null;
+                target = (org.openuri.easypo.LineItem)get_store().insert_element_user(LINEITEM$4, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "line-item" element
+         */
+        public org.openuri.easypo.LineItem addNewLineItem()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.LineItem target = null;
+                target = (org.openuri.easypo.LineItem)get_store().add_element_user(LINEITEM$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "line-item" element
+         */
+        public void removeLineItem(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LINEITEM$4, i);
+            }
+        }
+        
+        /**
+         * Gets the "shipper" element
+         */
+        public org.openuri.easypo.Shipper getShipper()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.Shipper target = null;
+                target = (org.openuri.easypo.Shipper)get_store().find_element_user(SHIPPER$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "shipper" element
+         */
+        public boolean isSetShipper()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPPER$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "shipper" element
+         */
+        public void setShipper(org.openuri.easypo.Shipper shipper)
+        {
+            generatedSetterHelperImpl(shipper, SHIPPER$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "shipper" element
+         */
+        public org.openuri.easypo.Shipper addNewShipper()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.openuri.easypo.Shipper target = null;
+                target = (org.openuri.easypo.Shipper)get_store().add_element_user(SHIPPER$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "shipper" element
+         */
+        public void unsetShipper()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(SHIPPER$6, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * XML Type:  activation-config-propertyType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML activation-config-propertyType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ActivationConfigPropertyType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ActivationConfigPropertyType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("activationconfigpropertytypec35ctype");
+    
+    /**
+     * Gets the "activation-config-property-name" element
+     */
+    java.lang.String getActivationConfigPropertyName();
+    
+    /**
+     * Gets (as xml) the "activation-config-property-name" element
+     */
+    org.apache.xmlbeans.XmlString xgetActivationConfigPropertyName();
+    
+    /**
+     * Sets the "activation-config-property-name" element
+     */
+    void setActivationConfigPropertyName(java.lang.String activationConfigPropertyName);
+    
+    /**
+     * Sets (as xml) the "activation-config-property-name" element
+     */
+    void xsetActivationConfigPropertyName(org.apache.xmlbeans.XmlString activationConfigPropertyName);
+    
+    /**
+     * Gets the "activation-config-property-value" element
+     */
+    java.lang.String getActivationConfigPropertyValue();
+    
+    /**
+     * Gets (as xml) the "activation-config-property-value" element
+     */
+    org.apache.xmlbeans.XmlString xgetActivationConfigPropertyValue();
+    
+    /**
+     * Sets the "activation-config-property-value" element
+     */
+    void setActivationConfigPropertyValue(java.lang.String activationConfigPropertyValue);
+    
+    /**
+     * Sets (as xml) the "activation-config-property-value" element
+     */
+    void xsetActivationConfigPropertyValue(org.apache.xmlbeans.XmlString activationConfigPropertyValue);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
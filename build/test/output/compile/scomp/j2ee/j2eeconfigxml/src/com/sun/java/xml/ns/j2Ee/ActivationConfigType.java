@@ -0,0 +1,216 @@
+/*
+ * XML Type:  activation-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML activation-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ActivationConfigType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ActivationConfigType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("activationconfigtype427atype");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "activation-config-property" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[] getActivationConfigPropertyArray();
+    
+    /**
+     * Gets ith "activation-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType getActivationConfigPropertyArray(int i);
+    
+    /**
+     * Returns number of "activation-config-property" element
+     */
+    int sizeOfActivationConfigPropertyArray();
+    
+    /**
+     * Sets array of all "activation-config-property" element
+     */
+    void setActivationConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[] activationConfigPropertyArray);
+    
+    /**
+     * Sets ith "activation-config-property" element
+     */
+    void setActivationConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType activationConfigProperty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "activation-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType insertNewActivationConfigProperty(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "activation-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType addNewActivationConfigProperty();
+    
+    /**
+     * Removes the ith "activation-config-property" element
+     */
+    void removeActivationConfigProperty(int i);
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray();
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i);
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    int sizeOfDeploymentExtensionArray();
+    
+    /**
+     * Sets array of all "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray);
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension();
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    void removeDeploymentExtension(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationConfigType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationConfigType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
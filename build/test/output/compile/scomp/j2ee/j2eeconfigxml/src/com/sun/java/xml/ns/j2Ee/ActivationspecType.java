@@ -0,0 +1,156 @@
+/*
+ * XML Type:  activationspecType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationspecType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML activationspecType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ActivationspecType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ActivationspecType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("activationspectype1564type");
+    
+    /**
+     * Gets the "activationspec-class" element
+     */
+    java.lang.String getActivationspecClass();
+    
+    /**
+     * Gets (as xml) the "activationspec-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetActivationspecClass();
+    
+    /**
+     * Sets the "activationspec-class" element
+     */
+    void setActivationspecClass(java.lang.String activationspecClass);
+    
+    /**
+     * Sets (as xml) the "activationspec-class" element
+     */
+    void xsetActivationspecClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType activationspecClass);
+    
+    /**
+     * Gets array of all "required-config-property" elements
+     */
+    com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[] getRequiredConfigPropertyArray();
+    
+    /**
+     * Gets ith "required-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType getRequiredConfigPropertyArray(int i);
+    
+    /**
+     * Returns number of "required-config-property" element
+     */
+    int sizeOfRequiredConfigPropertyArray();
+    
+    /**
+     * Sets array of all "required-config-property" element
+     */
+    void setRequiredConfigPropertyArray(com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[] requiredConfigPropertyArray);
+    
+    /**
+     * Sets ith "required-config-property" element
+     */
+    void setRequiredConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType requiredConfigProperty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "required-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType insertNewRequiredConfigProperty(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "required-config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType addNewRequiredConfigProperty();
+    
+    /**
+     * Removes the ith "required-config-property" element
+     */
+    void removeRequiredConfigProperty(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ActivationspecType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ActivationspecType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * XML Type:  adminobjectType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AdminobjectType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML adminobjectType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface AdminobjectType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AdminobjectType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("adminobjecttypee8aftype");
+    
+    /**
+     * Gets the "adminobject-interface" element
+     */
+    java.lang.String getAdminobjectInterface();
+    
+    /**
+     * Gets (as xml) the "adminobject-interface" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetAdminobjectInterface();
+    
+    /**
+     * Sets the "adminobject-interface" element
+     */
+    void setAdminobjectInterface(java.lang.String adminobjectInterface);
+    
+    /**
+     * Sets (as xml) the "adminobject-interface" element
+     */
+    void xsetAdminobjectInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType adminobjectInterface);
+    
+    /**
+     * Gets the "adminobject-class" element
+     */
+    java.lang.String getAdminobjectClass();
+    
+    /**
+     * Gets (as xml) the "adminobject-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetAdminobjectClass();
+    
+    /**
+     * Sets the "adminobject-class" element
+     */
+    void setAdminobjectClass(java.lang.String adminobjectClass);
+    
+    /**
+     * Sets (as xml) the "adminobject-class" element
+     */
+    void xsetAdminobjectClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType adminobjectClass);
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray();
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i);
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    int sizeOfConfigPropertyArray();
+    
+    /**
+     * Sets array of all "config-property" element
+     */
+    void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray);
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty();
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    void removeConfigProperty(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.AdminobjectType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.AdminobjectType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
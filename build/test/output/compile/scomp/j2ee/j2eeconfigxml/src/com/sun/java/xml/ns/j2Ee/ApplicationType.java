@@ -0,0 +1,356 @@
+/*
+ * XML Type:  applicationType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ApplicationType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML applicationType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ApplicationType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ApplicationType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("applicationtypee5b1type");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray();
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i);
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    int sizeOfDisplayNameArray();
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray);
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName();
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    void removeDisplayName(int i);
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    com.sun.java.xml.ns.j2Ee.IconType[] getIconArray();
+    
+    /**
+     * Gets ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i);
+    
+    /**
+     * Returns number of "icon" element
+     */
+    int sizeOfIconArray();
+    
+    /**
+     * Sets array of all "icon" element
+     */
+    void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray);
+    
+    /**
+     * Sets ith "icon" element
+     */
+    void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType addNewIcon();
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    void removeIcon(int i);
+    
+    /**
+     * Gets array of all "module" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ModuleType[] getModuleArray();
+    
+    /**
+     * Gets ith "module" element
+     */
+    com.sun.java.xml.ns.j2Ee.ModuleType getModuleArray(int i);
+    
+    /**
+     * Returns number of "module" element
+     */
+    int sizeOfModuleArray();
+    
+    /**
+     * Sets array of all "module" element
+     */
+    void setModuleArray(com.sun.java.xml.ns.j2Ee.ModuleType[] moduleArray);
+    
+    /**
+     * Sets ith "module" element
+     */
+    void setModuleArray(int i, com.sun.java.xml.ns.j2Ee.ModuleType module);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "module" element
+     */
+    com.sun.java.xml.ns.j2Ee.ModuleType insertNewModule(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "module" element
+     */
+    com.sun.java.xml.ns.j2Ee.ModuleType addNewModule();
+    
+    /**
+     * Removes the ith "module" element
+     */
+    void removeModule(int i);
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType[] getSecurityRoleArray();
+    
+    /**
+     * Gets ith "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType getSecurityRoleArray(int i);
+    
+    /**
+     * Returns number of "security-role" element
+     */
+    int sizeOfSecurityRoleArray();
+    
+    /**
+     * Sets array of all "security-role" element
+     */
+    void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.SecurityRoleType[] securityRoleArray);
+    
+    /**
+     * Sets ith "security-role" element
+     */
+    void setSecurityRoleArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleType securityRole);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType insertNewSecurityRole(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType addNewSecurityRole();
+    
+    /**
+     * Removes the ith "security-role" element
+     */
+    void removeSecurityRole(int i);
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray();
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i);
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    int sizeOfDeploymentExtensionArray();
+    
+    /**
+     * Sets array of all "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray);
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension();
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    void removeDeploymentExtension(int i);
+    
+    /**
+     * Gets the "version" attribute
+     */
+    java.math.BigDecimal getVersion();
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    com.sun.java.xml.ns.j2Ee.DeweyVersionType xgetVersion();
+    
+    /**
+     * Sets the "version" attribute
+     */
+    void setVersion(java.math.BigDecimal version);
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    void xsetVersion(com.sun.java.xml.ns.j2Ee.DeweyVersionType version);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ApplicationType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ApplicationType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
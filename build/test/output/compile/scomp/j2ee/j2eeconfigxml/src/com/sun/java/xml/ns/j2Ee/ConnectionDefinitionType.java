@@ -0,0 +1,236 @@
+/*
+ * XML Type:  connection-definitionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML connection-definitionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ConnectionDefinitionType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ConnectionDefinitionType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("connectiondefinitiontype0243type");
+    
+    /**
+     * Gets the "managedconnectionfactory-class" element
+     */
+    java.lang.String getManagedconnectionfactoryClass();
+    
+    /**
+     * Gets (as xml) the "managedconnectionfactory-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetManagedconnectionfactoryClass();
+    
+    /**
+     * Sets the "managedconnectionfactory-class" element
+     */
+    void setManagedconnectionfactoryClass(java.lang.String managedconnectionfactoryClass);
+    
+    /**
+     * Sets (as xml) the "managedconnectionfactory-class" element
+     */
+    void xsetManagedconnectionfactoryClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType managedconnectionfactoryClass);
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray();
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i);
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    int sizeOfConfigPropertyArray();
+    
+    /**
+     * Sets array of all "config-property" element
+     */
+    void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray);
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty();
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    void removeConfigProperty(int i);
+    
+    /**
+     * Gets the "connectionfactory-interface" element
+     */
+    java.lang.String getConnectionfactoryInterface();
+    
+    /**
+     * Gets (as xml) the "connectionfactory-interface" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionfactoryInterface();
+    
+    /**
+     * Sets the "connectionfactory-interface" element
+     */
+    void setConnectionfactoryInterface(java.lang.String connectionfactoryInterface);
+    
+    /**
+     * Sets (as xml) the "connectionfactory-interface" element
+     */
+    void xsetConnectionfactoryInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionfactoryInterface);
+    
+    /**
+     * Gets the "connectionfactory-impl-class" element
+     */
+    java.lang.String getConnectionfactoryImplClass();
+    
+    /**
+     * Gets (as xml) the "connectionfactory-impl-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionfactoryImplClass();
+    
+    /**
+     * Sets the "connectionfactory-impl-class" element
+     */
+    void setConnectionfactoryImplClass(java.lang.String connectionfactoryImplClass);
+    
+    /**
+     * Sets (as xml) the "connectionfactory-impl-class" element
+     */
+    void xsetConnectionfactoryImplClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionfactoryImplClass);
+    
+    /**
+     * Gets the "connection-interface" element
+     */
+    java.lang.String getConnectionInterface();
+    
+    /**
+     * Gets (as xml) the "connection-interface" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionInterface();
+    
+    /**
+     * Sets the "connection-interface" element
+     */
+    void setConnectionInterface(java.lang.String connectionInterface);
+    
+    /**
+     * Sets (as xml) the "connection-interface" element
+     */
+    void xsetConnectionInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionInterface);
+    
+    /**
+     * Gets the "connection-impl-class" element
+     */
+    java.lang.String getConnectionImplClass();
+    
+    /**
+     * Gets (as xml) the "connection-impl-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionImplClass();
+    
+    /**
+     * Sets the "connection-impl-class" element
+     */
+    void setConnectionImplClass(java.lang.String connectionImplClass);
+    
+    /**
+     * Sets (as xml) the "connection-impl-class" element
+     */
+    void xsetConnectionImplClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionImplClass);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * XML Type:  filter-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.FilterMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML filter-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface FilterMappingType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FilterMappingType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("filtermappingtype330ctype");
+    
+    /**
+     * Gets the "filter-name" element
+     */
+    java.lang.String getFilterName();
+    
+    /**
+     * Gets (as xml) the "filter-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterNameType xgetFilterName();
+    
+    /**
+     * Sets the "filter-name" element
+     */
+    void setFilterName(java.lang.String filterName);
+    
+    /**
+     * Sets (as xml) the "filter-name" element
+     */
+    void xsetFilterName(com.sun.java.xml.ns.j2Ee.FilterNameType filterName);
+    
+    /**
+     * Gets the "url-pattern" element
+     */
+    java.lang.String getUrlPattern();
+    
+    /**
+     * Gets (as xml) the "url-pattern" element
+     */
+    com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPattern();
+    
+    /**
+     * True if has "url-pattern" element
+     */
+    boolean isSetUrlPattern();
+    
+    /**
+     * Sets the "url-pattern" element
+     */
+    void setUrlPattern(java.lang.String urlPattern);
+    
+    /**
+     * Sets (as xml) the "url-pattern" element
+     */
+    void xsetUrlPattern(com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern);
+    
+    /**
+     * Unsets the "url-pattern" element
+     */
+    void unsetUrlPattern();
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    java.lang.String getServletName();
+    
+    /**
+     * Gets (as xml) the "servlet-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletNameType xgetServletName();
+    
+    /**
+     * True if has "servlet-name" element
+     */
+    boolean isSetServletName();
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    void setServletName(java.lang.String servletName);
+    
+    /**
+     * Sets (as xml) the "servlet-name" element
+     */
+    void xsetServletName(com.sun.java.xml.ns.j2Ee.ServletNameType servletName);
+    
+    /**
+     * Unsets the "servlet-name" element
+     */
+    void unsetServletName();
+    
+    /**
+     * Gets array of all "dispatcher" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[] getDispatcherArray();
+    
+    /**
+     * Gets ith "dispatcher" element
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType.Enum getDispatcherArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "dispatcher" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType[] xgetDispatcherArray();
+    
+    /**
+     * Gets (as xml) ith "dispatcher" element
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType xgetDispatcherArray(int i);
+    
+    /**
+     * Returns number of "dispatcher" element
+     */
+    int sizeOfDispatcherArray();
+    
+    /**
+     * Sets array of all "dispatcher" element
+     */
+    void setDispatcherArray(com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[] dispatcherArray);
+    
+    /**
+     * Sets ith "dispatcher" element
+     */
+    void setDispatcherArray(int i, com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher);
+    
+    /**
+     * Sets (as xml) array of all "dispatcher" element
+     */
+    void xsetDispatcherArray(com.sun.java.xml.ns.j2Ee.DispatcherType[] dispatcherArray);
+    
+    /**
+     * Sets (as xml) ith "dispatcher" element
+     */
+    void xsetDispatcherArray(int i, com.sun.java.xml.ns.j2Ee.DispatcherType dispatcher);
+    
+    /**
+     * Inserts the value as the ith "dispatcher" element
+     */
+    void insertDispatcher(int i, com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher);
+    
+    /**
+     * Appends the value as the last "dispatcher" element
+     */
+    void addDispatcher(com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "dispatcher" element
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType insertNewDispatcher(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "dispatcher" element
+     */
+    com.sun.java.xml.ns.j2Ee.DispatcherType addNewDispatcher();
+    
+    /**
+     * Removes the ith "dispatcher" element
+     */
+    void removeDispatcher(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.FilterMappingType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.FilterMappingType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
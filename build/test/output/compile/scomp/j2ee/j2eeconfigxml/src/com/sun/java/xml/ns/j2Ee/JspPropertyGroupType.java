@@ -0,0 +1,506 @@
+/*
+ * XML Type:  jsp-property-groupType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.JspPropertyGroupType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML jsp-property-groupType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface JspPropertyGroupType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(JspPropertyGroupType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("jsppropertygrouptype9be0type");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray();
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i);
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    int sizeOfDisplayNameArray();
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray);
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName();
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    void removeDisplayName(int i);
+    
+    /**
+     * Gets array of all "url-pattern" elements
+     */
+    java.lang.String[] getUrlPatternArray();
+    
+    /**
+     * Gets ith "url-pattern" element
+     */
+    java.lang.String getUrlPatternArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "url-pattern" elements
+     */
+    com.sun.java.xml.ns.j2Ee.UrlPatternType[] xgetUrlPatternArray();
+    
+    /**
+     * Gets (as xml) ith "url-pattern" element
+     */
+    com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPatternArray(int i);
+    
+    /**
+     * Returns number of "url-pattern" element
+     */
+    int sizeOfUrlPatternArray();
+    
+    /**
+     * Sets array of all "url-pattern" element
+     */
+    void setUrlPatternArray(java.lang.String[] urlPatternArray);
+    
+    /**
+     * Sets ith "url-pattern" element
+     */
+    void setUrlPatternArray(int i, java.lang.String urlPattern);
+    
+    /**
+     * Sets (as xml) array of all "url-pattern" element
+     */
+    void xsetUrlPatternArray(com.sun.java.xml.ns.j2Ee.UrlPatternType[] urlPatternArray);
+    
+    /**
+     * Sets (as xml) ith "url-pattern" element
+     */
+    void xsetUrlPatternArray(int i, com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern);
+    
+    /**
+     * Inserts the value as the ith "url-pattern" element
+     */
+    void insertUrlPattern(int i, java.lang.String urlPattern);
+    
+    /**
+     * Appends the value as the last "url-pattern" element
+     */
+    void addUrlPattern(java.lang.String urlPattern);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "url-pattern" element
+     */
+    com.sun.java.xml.ns.j2Ee.UrlPatternType insertNewUrlPattern(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "url-pattern" element
+     */
+    com.sun.java.xml.ns.j2Ee.UrlPatternType addNewUrlPattern();
+    
+    /**
+     * Removes the ith "url-pattern" element
+     */
+    void removeUrlPattern(int i);
+    
+    /**
+     * Gets the "el-enabled" element
+     */
+    boolean getElEnabled();
+    
+    /**
+     * Gets (as xml) the "el-enabled" element
+     */
+    com.sun.java.xml.ns.j2Ee.TrueFalseType xgetElEnabled();
+    
+    /**
+     * True if has "el-enabled" element
+     */
+    boolean isSetElEnabled();
+    
+    /**
+     * Sets the "el-enabled" element
+     */
+    void setElEnabled(boolean elEnabled);
+    
+    /**
+     * Sets (as xml) the "el-enabled" element
+     */
+    void xsetElEnabled(com.sun.java.xml.ns.j2Ee.TrueFalseType elEnabled);
+    
+    /**
+     * Unsets the "el-enabled" element
+     */
+    void unsetElEnabled();
+    
+    /**
+     * Gets the "page-encoding" element
+     */
+    java.lang.String getPageEncoding();
+    
+    /**
+     * Gets (as xml) the "page-encoding" element
+     */
+    com.sun.java.xml.ns.j2Ee.String xgetPageEncoding();
+    
+    /**
+     * True if has "page-encoding" element
+     */
+    boolean isSetPageEncoding();
+    
+    /**
+     * Sets the "page-encoding" element
+     */
+    void setPageEncoding(java.lang.String pageEncoding);
+    
+    /**
+     * Sets (as xml) the "page-encoding" element
+     */
+    void xsetPageEncoding(com.sun.java.xml.ns.j2Ee.String pageEncoding);
+    
+    /**
+     * Unsets the "page-encoding" element
+     */
+    void unsetPageEncoding();
+    
+    /**
+     * Gets the "scripting-enabled" element
+     */
+    boolean getScriptingEnabled();
+    
+    /**
+     * Gets (as xml) the "scripting-enabled" element
+     */
+    com.sun.java.xml.ns.j2Ee.TrueFalseType xgetScriptingEnabled();
+    
+    /**
+     * True if has "scripting-enabled" element
+     */
+    boolean isSetScriptingEnabled();
+    
+    /**
+     * Sets the "scripting-enabled" element
+     */
+    void setScriptingEnabled(boolean scriptingEnabled);
+    
+    /**
+     * Sets (as xml) the "scripting-enabled" element
+     */
+    void xsetScriptingEnabled(com.sun.java.xml.ns.j2Ee.TrueFalseType scriptingEnabled);
+    
+    /**
+     * Unsets the "scripting-enabled" element
+     */
+    void unsetScriptingEnabled();
+    
+    /**
+     * Gets the "is-xml" element
+     */
+    boolean getIsXml();
+    
+    /**
+     * Gets (as xml) the "is-xml" element
+     */
+    com.sun.java.xml.ns.j2Ee.TrueFalseType xgetIsXml();
+    
+    /**
+     * True if has "is-xml" element
+     */
+    boolean isSetIsXml();
+    
+    /**
+     * Sets the "is-xml" element
+     */
+    void setIsXml(boolean isXml);
+    
+    /**
+     * Sets (as xml) the "is-xml" element
+     */
+    void xsetIsXml(com.sun.java.xml.ns.j2Ee.TrueFalseType isXml);
+    
+    /**
+     * Unsets the "is-xml" element
+     */
+    void unsetIsXml();
+    
+    /**
+     * Gets array of all "include-prelude" elements
+     */
+    java.lang.String[] getIncludePreludeArray();
+    
+    /**
+     * Gets ith "include-prelude" element
+     */
+    java.lang.String getIncludePreludeArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "include-prelude" elements
+     */
+    com.sun.java.xml.ns.j2Ee.PathType[] xgetIncludePreludeArray();
+    
+    /**
+     * Gets (as xml) ith "include-prelude" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType xgetIncludePreludeArray(int i);
+    
+    /**
+     * Returns number of "include-prelude" element
+     */
+    int sizeOfIncludePreludeArray();
+    
+    /**
+     * Sets array of all "include-prelude" element
+     */
+    void setIncludePreludeArray(java.lang.String[] includePreludeArray);
+    
+    /**
+     * Sets ith "include-prelude" element
+     */
+    void setIncludePreludeArray(int i, java.lang.String includePrelude);
+    
+    /**
+     * Sets (as xml) array of all "include-prelude" element
+     */
+    void xsetIncludePreludeArray(com.sun.java.xml.ns.j2Ee.PathType[] includePreludeArray);
+    
+    /**
+     * Sets (as xml) ith "include-prelude" element
+     */
+    void xsetIncludePreludeArray(int i, com.sun.java.xml.ns.j2Ee.PathType includePrelude);
+    
+    /**
+     * Inserts the value as the ith "include-prelude" element
+     */
+    void insertIncludePrelude(int i, java.lang.String includePrelude);
+    
+    /**
+     * Appends the value as the last "include-prelude" element
+     */
+    void addIncludePrelude(java.lang.String includePrelude);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "include-prelude" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType insertNewIncludePrelude(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "include-prelude" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType addNewIncludePrelude();
+    
+    /**
+     * Removes the ith "include-prelude" element
+     */
+    void removeIncludePrelude(int i);
+    
+    /**
+     * Gets array of all "include-coda" elements
+     */
+    java.lang.String[] getIncludeCodaArray();
+    
+    /**
+     * Gets ith "include-coda" element
+     */
+    java.lang.String getIncludeCodaArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "include-coda" elements
+     */
+    com.sun.java.xml.ns.j2Ee.PathType[] xgetIncludeCodaArray();
+    
+    /**
+     * Gets (as xml) ith "include-coda" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType xgetIncludeCodaArray(int i);
+    
+    /**
+     * Returns number of "include-coda" element
+     */
+    int sizeOfIncludeCodaArray();
+    
+    /**
+     * Sets array of all "include-coda" element
+     */
+    void setIncludeCodaArray(java.lang.String[] includeCodaArray);
+    
+    /**
+     * Sets ith "include-coda" element
+     */
+    void setIncludeCodaArray(int i, java.lang.String includeCoda);
+    
+    /**
+     * Sets (as xml) array of all "include-coda" element
+     */
+    void xsetIncludeCodaArray(com.sun.java.xml.ns.j2Ee.PathType[] includeCodaArray);
+    
+    /**
+     * Sets (as xml) ith "include-coda" element
+     */
+    void xsetIncludeCodaArray(int i, com.sun.java.xml.ns.j2Ee.PathType includeCoda);
+    
+    /**
+     * Inserts the value as the ith "include-coda" element
+     */
+    void insertIncludeCoda(int i, java.lang.String includeCoda);
+    
+    /**
+     * Appends the value as the last "include-coda" element
+     */
+    void addIncludeCoda(java.lang.String includeCoda);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "include-coda" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType insertNewIncludeCoda(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "include-coda" element
+     */
+    com.sun.java.xml.ns.j2Ee.PathType addNewIncludeCoda();
+    
+    /**
+     * Removes the ith "include-coda" element
+     */
+    void removeIncludeCoda(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.JspPropertyGroupType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
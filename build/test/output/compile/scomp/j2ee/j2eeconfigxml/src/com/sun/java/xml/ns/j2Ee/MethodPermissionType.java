@@ -0,0 +1,271 @@
+/*
+ * XML Type:  method-permissionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MethodPermissionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML method-permissionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface MethodPermissionType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MethodPermissionType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("methodpermissiontypecbdctype");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "role-name" elements
+     */
+    java.lang.String[] getRoleNameArray();
+    
+    /**
+     * Gets ith "role-name" element
+     */
+    java.lang.String getRoleNameArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "role-name" elements
+     */
+    com.sun.java.xml.ns.j2Ee.RoleNameType[] xgetRoleNameArray();
+    
+    /**
+     * Gets (as xml) ith "role-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.RoleNameType xgetRoleNameArray(int i);
+    
+    /**
+     * Returns number of "role-name" element
+     */
+    int sizeOfRoleNameArray();
+    
+    /**
+     * Sets array of all "role-name" element
+     */
+    void setRoleNameArray(java.lang.String[] roleNameArray);
+    
+    /**
+     * Sets ith "role-name" element
+     */
+    void setRoleNameArray(int i, java.lang.String roleName);
+    
+    /**
+     * Sets (as xml) array of all "role-name" element
+     */
+    void xsetRoleNameArray(com.sun.java.xml.ns.j2Ee.RoleNameType[] roleNameArray);
+    
+    /**
+     * Sets (as xml) ith "role-name" element
+     */
+    void xsetRoleNameArray(int i, com.sun.java.xml.ns.j2Ee.RoleNameType roleName);
+    
+    /**
+     * Inserts the value as the ith "role-name" element
+     */
+    void insertRoleName(int i, java.lang.String roleName);
+    
+    /**
+     * Appends the value as the last "role-name" element
+     */
+    void addRoleName(java.lang.String roleName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "role-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.RoleNameType insertNewRoleName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "role-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.RoleNameType addNewRoleName();
+    
+    /**
+     * Removes the ith "role-name" element
+     */
+    void removeRoleName(int i);
+    
+    /**
+     * Gets the "unchecked" element
+     */
+    com.sun.java.xml.ns.j2Ee.EmptyType getUnchecked();
+    
+    /**
+     * True if has "unchecked" element
+     */
+    boolean isSetUnchecked();
+    
+    /**
+     * Sets the "unchecked" element
+     */
+    void setUnchecked(com.sun.java.xml.ns.j2Ee.EmptyType unchecked);
+    
+    /**
+     * Appends and returns a new empty "unchecked" element
+     */
+    com.sun.java.xml.ns.j2Ee.EmptyType addNewUnchecked();
+    
+    /**
+     * Unsets the "unchecked" element
+     */
+    void unsetUnchecked();
+    
+    /**
+     * Gets array of all "method" elements
+     */
+    com.sun.java.xml.ns.j2Ee.MethodType[] getMethodArray();
+    
+    /**
+     * Gets ith "method" element
+     */
+    com.sun.java.xml.ns.j2Ee.MethodType getMethodArray(int i);
+    
+    /**
+     * Returns number of "method" element
+     */
+    int sizeOfMethodArray();
+    
+    /**
+     * Sets array of all "method" element
+     */
+    void setMethodArray(com.sun.java.xml.ns.j2Ee.MethodType[] methodArray);
+    
+    /**
+     * Sets ith "method" element
+     */
+    void setMethodArray(int i, com.sun.java.xml.ns.j2Ee.MethodType method);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "method" element
+     */
+    com.sun.java.xml.ns.j2Ee.MethodType insertNewMethod(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "method" element
+     */
+    com.sun.java.xml.ns.j2Ee.MethodType addNewMethod();
+    
+    /**
+     * Removes the ith "method" element
+     */
+    void removeMethod(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.MethodPermissionType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.MethodPermissionType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * XML Type:  outbound-resourceadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML outbound-resourceadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface OutboundResourceadapterType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OutboundResourceadapterType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("outboundresourceadaptertype6977type");
+    
+    /**
+     * Gets array of all "connection-definition" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[] getConnectionDefinitionArray();
+    
+    /**
+     * Gets ith "connection-definition" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType getConnectionDefinitionArray(int i);
+    
+    /**
+     * Returns number of "connection-definition" element
+     */
+    int sizeOfConnectionDefinitionArray();
+    
+    /**
+     * Sets array of all "connection-definition" element
+     */
+    void setConnectionDefinitionArray(com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[] connectionDefinitionArray);
+    
+    /**
+     * Sets ith "connection-definition" element
+     */
+    void setConnectionDefinitionArray(int i, com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType connectionDefinition);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "connection-definition" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType insertNewConnectionDefinition(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "connection-definition" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType addNewConnectionDefinition();
+    
+    /**
+     * Removes the ith "connection-definition" element
+     */
+    void removeConnectionDefinition(int i);
+    
+    /**
+     * Gets the "transaction-support" element
+     */
+    com.sun.java.xml.ns.j2Ee.TransactionSupportType.Enum getTransactionSupport();
+    
+    /**
+     * Gets (as xml) the "transaction-support" element
+     */
+    com.sun.java.xml.ns.j2Ee.TransactionSupportType xgetTransactionSupport();
+    
+    /**
+     * Sets the "transaction-support" element
+     */
+    void setTransactionSupport(com.sun.java.xml.ns.j2Ee.TransactionSupportType.Enum transactionSupport);
+    
+    /**
+     * Sets (as xml) the "transaction-support" element
+     */
+    void xsetTransactionSupport(com.sun.java.xml.ns.j2Ee.TransactionSupportType transactionSupport);
+    
+    /**
+     * Gets array of all "authentication-mechanism" elements
+     */
+    com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[] getAuthenticationMechanismArray();
+    
+    /**
+     * Gets ith "authentication-mechanism" element
+     */
+    com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType getAuthenticationMechanismArray(int i);
+    
+    /**
+     * Returns number of "authentication-mechanism" element
+     */
+    int sizeOfAuthenticationMechanismArray();
+    
+    /**
+     * Sets array of all "authentication-mechanism" element
+     */
+    void setAuthenticationMechanismArray(com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[] authenticationMechanismArray);
+    
+    /**
+     * Sets ith "authentication-mechanism" element
+     */
+    void setAuthenticationMechanismArray(int i, com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType authenticationMechanism);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "authentication-mechanism" element
+     */
+    com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType insertNewAuthenticationMechanism(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "authentication-mechanism" element
+     */
+    com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType addNewAuthenticationMechanism();
+    
+    /**
+     * Removes the ith "authentication-mechanism" element
+     */
+    void removeAuthenticationMechanism(int i);
+    
+    /**
+     * Gets the "reauthentication-support" element
+     */
+    boolean getReauthenticationSupport();
+    
+    /**
+     * Gets (as xml) the "reauthentication-support" element
+     */
+    com.sun.java.xml.ns.j2Ee.TrueFalseType xgetReauthenticationSupport();
+    
+    /**
+     * Sets the "reauthentication-support" element
+     */
+    void setReauthenticationSupport(boolean reauthenticationSupport);
+    
+    /**
+     * Sets (as xml) the "reauthentication-support" element
+     */
+    void xsetReauthenticationSupport(com.sun.java.xml.ns.j2Ee.TrueFalseType reauthenticationSupport);
+    
+    /**
+     * Gets array of all "security-permission" elements
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityPermissionType[] getSecurityPermissionArray();
+    
+    /**
+     * Gets ith "security-permission" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityPermissionType getSecurityPermissionArray(int i);
+    
+    /**
+     * Returns number of "security-permission" element
+     */
+    int sizeOfSecurityPermissionArray();
+    
+    /**
+     * Sets array of all "security-permission" element
+     */
+    void setSecurityPermissionArray(com.sun.java.xml.ns.j2Ee.SecurityPermissionType[] securityPermissionArray);
+    
+    /**
+     * Sets ith "security-permission" element
+     */
+    void setSecurityPermissionArray(int i, com.sun.java.xml.ns.j2Ee.SecurityPermissionType securityPermission);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-permission" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityPermissionType insertNewSecurityPermission(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-permission" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityPermissionType addNewSecurityPermission();
+    
+    /**
+     * Removes the ith "security-permission" element
+     */
+    void removeSecurityPermission(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
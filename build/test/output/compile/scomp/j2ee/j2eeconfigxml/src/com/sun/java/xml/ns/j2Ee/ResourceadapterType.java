@@ -0,0 +1,256 @@
+/*
+ * XML Type:  resourceadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ResourceadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML resourceadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ResourceadapterType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ResourceadapterType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("resourceadaptertype1be2type");
+    
+    /**
+     * Gets the "resourceadapter-class" element
+     */
+    java.lang.String getResourceadapterClass();
+    
+    /**
+     * Gets (as xml) the "resourceadapter-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetResourceadapterClass();
+    
+    /**
+     * True if has "resourceadapter-class" element
+     */
+    boolean isSetResourceadapterClass();
+    
+    /**
+     * Sets the "resourceadapter-class" element
+     */
+    void setResourceadapterClass(java.lang.String resourceadapterClass);
+    
+    /**
+     * Sets (as xml) the "resourceadapter-class" element
+     */
+    void xsetResourceadapterClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType resourceadapterClass);
+    
+    /**
+     * Unsets the "resourceadapter-class" element
+     */
+    void unsetResourceadapterClass();
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray();
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i);
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    int sizeOfConfigPropertyArray();
+    
+    /**
+     * Sets array of all "config-property" element
+     */
+    void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray);
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty();
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    void removeConfigProperty(int i);
+    
+    /**
+     * Gets the "outbound-resourceadapter" element
+     */
+    com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType getOutboundResourceadapter();
+    
+    /**
+     * True if has "outbound-resourceadapter" element
+     */
+    boolean isSetOutboundResourceadapter();
+    
+    /**
+     * Sets the "outbound-resourceadapter" element
+     */
+    void setOutboundResourceadapter(com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType outboundResourceadapter);
+    
+    /**
+     * Appends and returns a new empty "outbound-resourceadapter" element
+     */
+    com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType addNewOutboundResourceadapter();
+    
+    /**
+     * Unsets the "outbound-resourceadapter" element
+     */
+    void unsetOutboundResourceadapter();
+    
+    /**
+     * Gets the "inbound-resourceadapter" element
+     */
+    com.sun.java.xml.ns.j2Ee.InboundResourceadapterType getInboundResourceadapter();
+    
+    /**
+     * True if has "inbound-resourceadapter" element
+     */
+    boolean isSetInboundResourceadapter();
+    
+    /**
+     * Sets the "inbound-resourceadapter" element
+     */
+    void setInboundResourceadapter(com.sun.java.xml.ns.j2Ee.InboundResourceadapterType inboundResourceadapter);
+    
+    /**
+     * Appends and returns a new empty "inbound-resourceadapter" element
+     */
+    com.sun.java.xml.ns.j2Ee.InboundResourceadapterType addNewInboundResourceadapter();
+    
+    /**
+     * Unsets the "inbound-resourceadapter" element
+     */
+    void unsetInboundResourceadapter();
+    
+    /**
+     * Gets array of all "adminobject" elements
+     */
+    com.sun.java.xml.ns.j2Ee.AdminobjectType[] getAdminobjectArray();
+    
+    /**
+     * Gets ith "adminobject" element
+     */
+    com.sun.java.xml.ns.j2Ee.AdminobjectType getAdminobjectArray(int i);
+    
+    /**
+     * Returns number of "adminobject" element
+     */
+    int sizeOfAdminobjectArray();
+    
+    /**
+     * Sets array of all "adminobject" element
+     */
+    void setAdminobjectArray(com.sun.java.xml.ns.j2Ee.AdminobjectType[] adminobjectArray);
+    
+    /**
+     * Sets ith "adminobject" element
+     */
+    void setAdminobjectArray(int i, com.sun.java.xml.ns.j2Ee.AdminobjectType adminobject);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "adminobject" element
+     */
+    com.sun.java.xml.ns.j2Ee.AdminobjectType insertNewAdminobject(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "adminobject" element
+     */
+    com.sun.java.xml.ns.j2Ee.AdminobjectType addNewAdminobject();
+    
+    /**
+     * Removes the ith "adminobject" element
+     */
+    void removeAdminobject(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ResourceadapterType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ResourceadapterType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
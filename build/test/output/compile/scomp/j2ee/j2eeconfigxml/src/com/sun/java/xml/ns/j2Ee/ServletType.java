@@ -0,0 +1,471 @@
+/*
+ * XML Type:  servletType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ServletType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML servletType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface ServletType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ServletType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("servlettypeefa6type");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray();
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i);
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    int sizeOfDisplayNameArray();
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray);
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName();
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    void removeDisplayName(int i);
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    com.sun.java.xml.ns.j2Ee.IconType[] getIconArray();
+    
+    /**
+     * Gets ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i);
+    
+    /**
+     * Returns number of "icon" element
+     */
+    int sizeOfIconArray();
+    
+    /**
+     * Sets array of all "icon" element
+     */
+    void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray);
+    
+    /**
+     * Sets ith "icon" element
+     */
+    void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType addNewIcon();
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    void removeIcon(int i);
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    java.lang.String getServletName();
+    
+    /**
+     * Gets (as xml) the "servlet-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletNameType xgetServletName();
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    void setServletName(java.lang.String servletName);
+    
+    /**
+     * Sets (as xml) the "servlet-name" element
+     */
+    void xsetServletName(com.sun.java.xml.ns.j2Ee.ServletNameType servletName);
+    
+    /**
+     * Gets the "servlet-class" element
+     */
+    java.lang.String getServletClass();
+    
+    /**
+     * Gets (as xml) the "servlet-class" element
+     */
+    com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetServletClass();
+    
+    /**
+     * True if has "servlet-class" element
+     */
+    boolean isSetServletClass();
+    
+    /**
+     * Sets the "servlet-class" element
+     */
+    void setServletClass(java.lang.String servletClass);
+    
+    /**
+     * Sets (as xml) the "servlet-class" element
+     */
+    void xsetServletClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType servletClass);
+    
+    /**
+     * Unsets the "servlet-class" element
+     */
+    void unsetServletClass();
+    
+    /**
+     * Gets the "jsp-file" element
+     */
+    java.lang.String getJspFile();
+    
+    /**
+     * Gets (as xml) the "jsp-file" element
+     */
+    com.sun.java.xml.ns.j2Ee.JspFileType xgetJspFile();
+    
+    /**
+     * True if has "jsp-file" element
+     */
+    boolean isSetJspFile();
+    
+    /**
+     * Sets the "jsp-file" element
+     */
+    void setJspFile(java.lang.String jspFile);
+    
+    /**
+     * Sets (as xml) the "jsp-file" element
+     */
+    void xsetJspFile(com.sun.java.xml.ns.j2Ee.JspFileType jspFile);
+    
+    /**
+     * Unsets the "jsp-file" element
+     */
+    void unsetJspFile();
+    
+    /**
+     * Gets array of all "init-param" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType[] getInitParamArray();
+    
+    /**
+     * Gets ith "init-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType getInitParamArray(int i);
+    
+    /**
+     * Returns number of "init-param" element
+     */
+    int sizeOfInitParamArray();
+    
+    /**
+     * Sets array of all "init-param" element
+     */
+    void setInitParamArray(com.sun.java.xml.ns.j2Ee.ParamValueType[] initParamArray);
+    
+    /**
+     * Sets ith "init-param" element
+     */
+    void setInitParamArray(int i, com.sun.java.xml.ns.j2Ee.ParamValueType initParam);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "init-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType insertNewInitParam(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "init-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType addNewInitParam();
+    
+    /**
+     * Removes the ith "init-param" element
+     */
+    void removeInitParam(int i);
+    
+    /**
+     * Gets the "load-on-startup" element
+     */
+    java.math.BigInteger getLoadOnStartup();
+    
+    /**
+     * Gets (as xml) the "load-on-startup" element
+     */
+    org.apache.xmlbeans.XmlInteger xgetLoadOnStartup();
+    
+    /**
+     * True if has "load-on-startup" element
+     */
+    boolean isSetLoadOnStartup();
+    
+    /**
+     * Sets the "load-on-startup" element
+     */
+    void setLoadOnStartup(java.math.BigInteger loadOnStartup);
+    
+    /**
+     * Sets (as xml) the "load-on-startup" element
+     */
+    void xsetLoadOnStartup(org.apache.xmlbeans.XmlInteger loadOnStartup);
+    
+    /**
+     * Unsets the "load-on-startup" element
+     */
+    void unsetLoadOnStartup();
+    
+    /**
+     * Gets the "run-as" element
+     */
+    com.sun.java.xml.ns.j2Ee.RunAsType getRunAs();
+    
+    /**
+     * True if has "run-as" element
+     */
+    boolean isSetRunAs();
+    
+    /**
+     * Sets the "run-as" element
+     */
+    void setRunAs(com.sun.java.xml.ns.j2Ee.RunAsType runAs);
+    
+    /**
+     * Appends and returns a new empty "run-as" element
+     */
+    com.sun.java.xml.ns.j2Ee.RunAsType addNewRunAs();
+    
+    /**
+     * Unsets the "run-as" element
+     */
+    void unsetRunAs();
+    
+    /**
+     * Gets array of all "security-role-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] getSecurityRoleRefArray();
+    
+    /**
+     * Gets ith "security-role-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleRefType getSecurityRoleRefArray(int i);
+    
+    /**
+     * Returns number of "security-role-ref" element
+     */
+    int sizeOfSecurityRoleRefArray();
+    
+    /**
+     * Sets array of all "security-role-ref" element
+     */
+    void setSecurityRoleRefArray(com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] securityRoleRefArray);
+    
+    /**
+     * Sets ith "security-role-ref" element
+     */
+    void setSecurityRoleRefArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleRefType securityRoleRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleRefType insertNewSecurityRoleRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleRefType addNewSecurityRoleRef();
+    
+    /**
+     * Removes the ith "security-role-ref" element
+     */
+    void removeSecurityRoleRef(int i);
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray();
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i);
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    int sizeOfDeploymentExtensionArray();
+    
+    /**
+     * Sets array of all "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray);
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension();
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    void removeDeploymentExtension(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.ServletType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.ServletType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.ServletType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
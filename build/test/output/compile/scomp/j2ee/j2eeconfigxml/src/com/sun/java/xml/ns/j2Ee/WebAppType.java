@@ -0,0 +1,1106 @@
+/*
+ * XML Type:  web-appType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.WebAppType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee;
+
+
+/**
+ * An XML web-appType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public interface WebAppType extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(WebAppType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("webapptype1809type");
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray();
+    
+    /**
+     * Gets ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i);
+    
+    /**
+     * Returns number of "description" element
+     */
+    int sizeOfDescriptionArray();
+    
+    /**
+     * Sets array of all "description" element
+     */
+    void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray);
+    
+    /**
+     * Sets ith "description" element
+     */
+    void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription();
+    
+    /**
+     * Removes the ith "description" element
+     */
+    void removeDescription(int i);
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray();
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i);
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    int sizeOfDisplayNameArray();
+    
+    /**
+     * Sets array of all "display-name" element
+     */
+    void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray);
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName();
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    void removeDisplayName(int i);
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    com.sun.java.xml.ns.j2Ee.IconType[] getIconArray();
+    
+    /**
+     * Gets ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i);
+    
+    /**
+     * Returns number of "icon" element
+     */
+    int sizeOfIconArray();
+    
+    /**
+     * Sets array of all "icon" element
+     */
+    void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray);
+    
+    /**
+     * Sets ith "icon" element
+     */
+    void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    com.sun.java.xml.ns.j2Ee.IconType addNewIcon();
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    void removeIcon(int i);
+    
+    /**
+     * Gets the "distributable" element
+     */
+    com.sun.java.xml.ns.j2Ee.EmptyType getDistributable();
+    
+    /**
+     * True if has "distributable" element
+     */
+    boolean isSetDistributable();
+    
+    /**
+     * Sets the "distributable" element
+     */
+    void setDistributable(com.sun.java.xml.ns.j2Ee.EmptyType distributable);
+    
+    /**
+     * Appends and returns a new empty "distributable" element
+     */
+    com.sun.java.xml.ns.j2Ee.EmptyType addNewDistributable();
+    
+    /**
+     * Unsets the "distributable" element
+     */
+    void unsetDistributable();
+    
+    /**
+     * Gets array of all "context-param" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType[] getContextParamArray();
+    
+    /**
+     * Gets ith "context-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType getContextParamArray(int i);
+    
+    /**
+     * Returns number of "context-param" element
+     */
+    int sizeOfContextParamArray();
+    
+    /**
+     * Sets array of all "context-param" element
+     */
+    void setContextParamArray(com.sun.java.xml.ns.j2Ee.ParamValueType[] contextParamArray);
+    
+    /**
+     * Sets ith "context-param" element
+     */
+    void setContextParamArray(int i, com.sun.java.xml.ns.j2Ee.ParamValueType contextParam);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "context-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType insertNewContextParam(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "context-param" element
+     */
+    com.sun.java.xml.ns.j2Ee.ParamValueType addNewContextParam();
+    
+    /**
+     * Removes the ith "context-param" element
+     */
+    void removeContextParam(int i);
+    
+    /**
+     * Gets array of all "filter" elements
+     */
+    com.sun.java.xml.ns.j2Ee.FilterType[] getFilterArray();
+    
+    /**
+     * Gets ith "filter" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterType getFilterArray(int i);
+    
+    /**
+     * Returns number of "filter" element
+     */
+    int sizeOfFilterArray();
+    
+    /**
+     * Sets array of all "filter" element
+     */
+    void setFilterArray(com.sun.java.xml.ns.j2Ee.FilterType[] filterArray);
+    
+    /**
+     * Sets ith "filter" element
+     */
+    void setFilterArray(int i, com.sun.java.xml.ns.j2Ee.FilterType filter);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "filter" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterType insertNewFilter(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "filter" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterType addNewFilter();
+    
+    /**
+     * Removes the ith "filter" element
+     */
+    void removeFilter(int i);
+    
+    /**
+     * Gets array of all "filter-mapping" elements
+     */
+    com.sun.java.xml.ns.j2Ee.FilterMappingType[] getFilterMappingArray();
+    
+    /**
+     * Gets ith "filter-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterMappingType getFilterMappingArray(int i);
+    
+    /**
+     * Returns number of "filter-mapping" element
+     */
+    int sizeOfFilterMappingArray();
+    
+    /**
+     * Sets array of all "filter-mapping" element
+     */
+    void setFilterMappingArray(com.sun.java.xml.ns.j2Ee.FilterMappingType[] filterMappingArray);
+    
+    /**
+     * Sets ith "filter-mapping" element
+     */
+    void setFilterMappingArray(int i, com.sun.java.xml.ns.j2Ee.FilterMappingType filterMapping);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "filter-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterMappingType insertNewFilterMapping(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "filter-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.FilterMappingType addNewFilterMapping();
+    
+    /**
+     * Removes the ith "filter-mapping" element
+     */
+    void removeFilterMapping(int i);
+    
+    /**
+     * Gets array of all "listener" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ListenerType[] getListenerArray();
+    
+    /**
+     * Gets ith "listener" element
+     */
+    com.sun.java.xml.ns.j2Ee.ListenerType getListenerArray(int i);
+    
+    /**
+     * Returns number of "listener" element
+     */
+    int sizeOfListenerArray();
+    
+    /**
+     * Sets array of all "listener" element
+     */
+    void setListenerArray(com.sun.java.xml.ns.j2Ee.ListenerType[] listenerArray);
+    
+    /**
+     * Sets ith "listener" element
+     */
+    void setListenerArray(int i, com.sun.java.xml.ns.j2Ee.ListenerType listener);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "listener" element
+     */
+    com.sun.java.xml.ns.j2Ee.ListenerType insertNewListener(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "listener" element
+     */
+    com.sun.java.xml.ns.j2Ee.ListenerType addNewListener();
+    
+    /**
+     * Removes the ith "listener" element
+     */
+    void removeListener(int i);
+    
+    /**
+     * Gets array of all "servlet" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ServletType[] getServletArray();
+    
+    /**
+     * Gets ith "servlet" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletType getServletArray(int i);
+    
+    /**
+     * Returns number of "servlet" element
+     */
+    int sizeOfServletArray();
+    
+    /**
+     * Sets array of all "servlet" element
+     */
+    void setServletArray(com.sun.java.xml.ns.j2Ee.ServletType[] servletArray);
+    
+    /**
+     * Sets ith "servlet" element
+     */
+    void setServletArray(int i, com.sun.java.xml.ns.j2Ee.ServletType servlet);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "servlet" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletType insertNewServlet(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "servlet" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletType addNewServlet();
+    
+    /**
+     * Removes the ith "servlet" element
+     */
+    void removeServlet(int i);
+    
+    /**
+     * Gets array of all "servlet-mapping" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ServletMappingType[] getServletMappingArray();
+    
+    /**
+     * Gets ith "servlet-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletMappingType getServletMappingArray(int i);
+    
+    /**
+     * Returns number of "servlet-mapping" element
+     */
+    int sizeOfServletMappingArray();
+    
+    /**
+     * Sets array of all "servlet-mapping" element
+     */
+    void setServletMappingArray(com.sun.java.xml.ns.j2Ee.ServletMappingType[] servletMappingArray);
+    
+    /**
+     * Sets ith "servlet-mapping" element
+     */
+    void setServletMappingArray(int i, com.sun.java.xml.ns.j2Ee.ServletMappingType servletMapping);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "servlet-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletMappingType insertNewServletMapping(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "servlet-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.ServletMappingType addNewServletMapping();
+    
+    /**
+     * Removes the ith "servlet-mapping" element
+     */
+    void removeServletMapping(int i);
+    
+    /**
+     * Gets the "session-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.SessionConfigType getSessionConfig();
+    
+    /**
+     * True if has "session-config" element
+     */
+    boolean isSetSessionConfig();
+    
+    /**
+     * Sets the "session-config" element
+     */
+    void setSessionConfig(com.sun.java.xml.ns.j2Ee.SessionConfigType sessionConfig);
+    
+    /**
+     * Appends and returns a new empty "session-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.SessionConfigType addNewSessionConfig();
+    
+    /**
+     * Unsets the "session-config" element
+     */
+    void unsetSessionConfig();
+    
+    /**
+     * Gets array of all "mime-mapping" elements
+     */
+    com.sun.java.xml.ns.j2Ee.MimeMappingType[] getMimeMappingArray();
+    
+    /**
+     * Gets ith "mime-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.MimeMappingType getMimeMappingArray(int i);
+    
+    /**
+     * Returns number of "mime-mapping" element
+     */
+    int sizeOfMimeMappingArray();
+    
+    /**
+     * Sets array of all "mime-mapping" element
+     */
+    void setMimeMappingArray(com.sun.java.xml.ns.j2Ee.MimeMappingType[] mimeMappingArray);
+    
+    /**
+     * Sets ith "mime-mapping" element
+     */
+    void setMimeMappingArray(int i, com.sun.java.xml.ns.j2Ee.MimeMappingType mimeMapping);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "mime-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.MimeMappingType insertNewMimeMapping(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "mime-mapping" element
+     */
+    com.sun.java.xml.ns.j2Ee.MimeMappingType addNewMimeMapping();
+    
+    /**
+     * Removes the ith "mime-mapping" element
+     */
+    void removeMimeMapping(int i);
+    
+    /**
+     * Gets the "welcome-file-list" element
+     */
+    com.sun.java.xml.ns.j2Ee.WelcomeFileListType getWelcomeFileList();
+    
+    /**
+     * True if has "welcome-file-list" element
+     */
+    boolean isSetWelcomeFileList();
+    
+    /**
+     * Sets the "welcome-file-list" element
+     */
+    void setWelcomeFileList(com.sun.java.xml.ns.j2Ee.WelcomeFileListType welcomeFileList);
+    
+    /**
+     * Appends and returns a new empty "welcome-file-list" element
+     */
+    com.sun.java.xml.ns.j2Ee.WelcomeFileListType addNewWelcomeFileList();
+    
+    /**
+     * Unsets the "welcome-file-list" element
+     */
+    void unsetWelcomeFileList();
+    
+    /**
+     * Gets array of all "error-page" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ErrorPageType[] getErrorPageArray();
+    
+    /**
+     * Gets ith "error-page" element
+     */
+    com.sun.java.xml.ns.j2Ee.ErrorPageType getErrorPageArray(int i);
+    
+    /**
+     * Returns number of "error-page" element
+     */
+    int sizeOfErrorPageArray();
+    
+    /**
+     * Sets array of all "error-page" element
+     */
+    void setErrorPageArray(com.sun.java.xml.ns.j2Ee.ErrorPageType[] errorPageArray);
+    
+    /**
+     * Sets ith "error-page" element
+     */
+    void setErrorPageArray(int i, com.sun.java.xml.ns.j2Ee.ErrorPageType errorPage);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "error-page" element
+     */
+    com.sun.java.xml.ns.j2Ee.ErrorPageType insertNewErrorPage(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "error-page" element
+     */
+    com.sun.java.xml.ns.j2Ee.ErrorPageType addNewErrorPage();
+    
+    /**
+     * Removes the ith "error-page" element
+     */
+    void removeErrorPage(int i);
+    
+    /**
+     * Gets the "jsp-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.JspConfigType getJspConfig();
+    
+    /**
+     * True if has "jsp-config" element
+     */
+    boolean isSetJspConfig();
+    
+    /**
+     * Sets the "jsp-config" element
+     */
+    void setJspConfig(com.sun.java.xml.ns.j2Ee.JspConfigType jspConfig);
+    
+    /**
+     * Appends and returns a new empty "jsp-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.JspConfigType addNewJspConfig();
+    
+    /**
+     * Unsets the "jsp-config" element
+     */
+    void unsetJspConfig();
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray();
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i);
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    int sizeOfResourceEnvRefArray();
+    
+    /**
+     * Sets array of all "resource-env-ref" element
+     */
+    void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray);
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef();
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    void removeResourceEnvRef(int i);
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray();
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i);
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    int sizeOfMessageDestinationRefArray();
+    
+    /**
+     * Sets array of all "message-destination-ref" element
+     */
+    void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray);
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef();
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    void removeMessageDestinationRef(int i);
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray();
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i);
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    int sizeOfResourceRefArray();
+    
+    /**
+     * Sets array of all "resource-ref" element
+     */
+    void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray);
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef();
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    void removeResourceRef(int i);
+    
+    /**
+     * Gets array of all "security-constraint" elements
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityConstraintType[] getSecurityConstraintArray();
+    
+    /**
+     * Gets ith "security-constraint" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityConstraintType getSecurityConstraintArray(int i);
+    
+    /**
+     * Returns number of "security-constraint" element
+     */
+    int sizeOfSecurityConstraintArray();
+    
+    /**
+     * Sets array of all "security-constraint" element
+     */
+    void setSecurityConstraintArray(com.sun.java.xml.ns.j2Ee.SecurityConstraintType[] securityConstraintArray);
+    
+    /**
+     * Sets ith "security-constraint" element
+     */
+    void setSecurityConstraintArray(int i, com.sun.java.xml.ns.j2Ee.SecurityConstraintType securityConstraint);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-constraint" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityConstraintType insertNewSecurityConstraint(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-constraint" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityConstraintType addNewSecurityConstraint();
+    
+    /**
+     * Removes the ith "security-constraint" element
+     */
+    void removeSecurityConstraint(int i);
+    
+    /**
+     * Gets the "login-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.LoginConfigType getLoginConfig();
+    
+    /**
+     * True if has "login-config" element
+     */
+    boolean isSetLoginConfig();
+    
+    /**
+     * Sets the "login-config" element
+     */
+    void setLoginConfig(com.sun.java.xml.ns.j2Ee.LoginConfigType loginConfig);
+    
+    /**
+     * Appends and returns a new empty "login-config" element
+     */
+    com.sun.java.xml.ns.j2Ee.LoginConfigType addNewLoginConfig();
+    
+    /**
+     * Unsets the "login-config" element
+     */
+    void unsetLoginConfig();
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType[] getSecurityRoleArray();
+    
+    /**
+     * Gets ith "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType getSecurityRoleArray(int i);
+    
+    /**
+     * Returns number of "security-role" element
+     */
+    int sizeOfSecurityRoleArray();
+    
+    /**
+     * Sets array of all "security-role" element
+     */
+    void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.SecurityRoleType[] securityRoleArray);
+    
+    /**
+     * Sets ith "security-role" element
+     */
+    void setSecurityRoleArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleType securityRole);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType insertNewSecurityRole(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role" element
+     */
+    com.sun.java.xml.ns.j2Ee.SecurityRoleType addNewSecurityRole();
+    
+    /**
+     * Removes the ith "security-role" element
+     */
+    void removeSecurityRole(int i);
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray();
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i);
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    int sizeOfEnvEntryArray();
+    
+    /**
+     * Sets array of all "env-entry" element
+     */
+    void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray);
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry();
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    void removeEnvEntry(int i);
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray();
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i);
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    int sizeOfEjbRefArray();
+    
+    /**
+     * Sets array of all "ejb-ref" element
+     */
+    void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray);
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef();
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    void removeEjbRef(int i);
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] getEjbLocalRefArray();
+    
+    /**
+     * Gets ith "ejb-local-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbLocalRefType getEjbLocalRefArray(int i);
+    
+    /**
+     * Returns number of "ejb-local-ref" element
+     */
+    int sizeOfEjbLocalRefArray();
+    
+    /**
+     * Sets array of all "ejb-local-ref" element
+     */
+    void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] ejbLocalRefArray);
+    
+    /**
+     * Sets ith "ejb-local-ref" element
+     */
+    void setEjbLocalRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbLocalRefType ejbLocalRef);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-local-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbLocalRefType insertNewEjbLocalRef(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-local-ref" element
+     */
+    com.sun.java.xml.ns.j2Ee.EjbLocalRefType addNewEjbLocalRef();
+    
+    /**
+     * Removes the ith "ejb-local-ref" element
+     */
+    void removeEjbLocalRef(int i);
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationType[] getMessageDestinationArray();
+    
+    /**
+     * Gets ith "message-destination" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationType getMessageDestinationArray(int i);
+    
+    /**
+     * Returns number of "message-destination" element
+     */
+    int sizeOfMessageDestinationArray();
+    
+    /**
+     * Sets array of all "message-destination" element
+     */
+    void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.MessageDestinationType[] messageDestinationArray);
+    
+    /**
+     * Sets ith "message-destination" element
+     */
+    void setMessageDestinationArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationType messageDestination);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationType insertNewMessageDestination(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination" element
+     */
+    com.sun.java.xml.ns.j2Ee.MessageDestinationType addNewMessageDestination();
+    
+    /**
+     * Removes the ith "message-destination" element
+     */
+    void removeMessageDestination(int i);
+    
+    /**
+     * Gets the "locale-encoding-mapping-list" element
+     */
+    com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType getLocaleEncodingMappingList();
+    
+    /**
+     * True if has "locale-encoding-mapping-list" element
+     */
+    boolean isSetLocaleEncodingMappingList();
+    
+    /**
+     * Sets the "locale-encoding-mapping-list" element
+     */
+    void setLocaleEncodingMappingList(com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType localeEncodingMappingList);
+    
+    /**
+     * Appends and returns a new empty "locale-encoding-mapping-list" element
+     */
+    com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType addNewLocaleEncodingMappingList();
+    
+    /**
+     * Unsets the "locale-encoding-mapping-list" element
+     */
+    void unsetLocaleEncodingMappingList();
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray();
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i);
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    int sizeOfDeploymentExtensionArray();
+    
+    /**
+     * Sets array of all "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray);
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension();
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    void removeDeploymentExtension(int i);
+    
+    /**
+     * Gets the "version" attribute
+     */
+    com.sun.java.xml.ns.j2Ee.WebAppVersionType.Enum getVersion();
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    com.sun.java.xml.ns.j2Ee.WebAppVersionType xgetVersion();
+    
+    /**
+     * Sets the "version" attribute
+     */
+    void setVersion(com.sun.java.xml.ns.j2Ee.WebAppVersionType.Enum version);
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    void xsetVersion(com.sun.java.xml.ns.j2Ee.WebAppVersionType version);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.sun.java.xml.ns.j2Ee.WebAppType newInstance() {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.sun.java.xml.ns.j2Ee.WebAppType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.sun.java.xml.ns.j2Ee.WebAppType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  activation-config-propertyType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML activation-config-propertyType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ActivationConfigPropertyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ActivationConfigPropertyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ACTIVATIONCONFIGPROPERTYNAME$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activation-config-property-name");
+    private static final javax.xml.namespace.QName ACTIVATIONCONFIGPROPERTYVALUE$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activation-config-property-value");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1184398193:
+                if (name.equals(ACTIVATIONCONFIGPROPERTYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1945749485:
+                if (name.equals(ACTIVATIONCONFIGPROPERTYVALUE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "activation-config-property-name" element
+     */
+    public java.lang.String getActivationConfigPropertyName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "activation-config-property-name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetActivationConfigPropertyName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "activation-config-property-name" element
+     */
+    public void setActivationConfigPropertyName(java.lang.String activationConfigPropertyName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ACTIVATIONCONFIGPROPERTYNAME$0);
+            }
+            target.setStringValue(activationConfigPropertyName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "activation-config-property-name" element
+     */
+    public void xsetActivationConfigPropertyName(org.apache.xmlbeans.XmlString activationConfigPropertyName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ACTIVATIONCONFIGPROPERTYNAME$0);
+            }
+            target.set(activationConfigPropertyName);
+        }
+    }
+    
+    /**
+     * Gets the "activation-config-property-value" element
+     */
+    public java.lang.String getActivationConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "activation-config-property-value" element
+     */
+    public org.apache.xmlbeans.XmlString xgetActivationConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "activation-config-property-value" element
+     */
+    public void setActivationConfigPropertyValue(java.lang.String activationConfigPropertyValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2);
+            }
+            target.setStringValue(activationConfigPropertyValue);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "activation-config-property-value" element
+     */
+    public void xsetActivationConfigPropertyValue(org.apache.xmlbeans.XmlString activationConfigPropertyValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ACTIVATIONCONFIGPROPERTYVALUE$2);
+            }
+            target.set(activationConfigPropertyValue);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * XML Type:  activation-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML activation-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ActivationConfigTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ActivationConfigType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ActivationConfigTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName ACTIVATIONCONFIGPROPERTY$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activation-config-property");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2146566839:
+                if (name.equals(ACTIVATIONCONFIGPROPERTY$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "activation-config-property" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[] getActivationConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ACTIVATIONCONFIGPROPERTY$2, targetList);
+            com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[] result = new com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "activation-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType getActivationConfigPropertyArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType)get_store().find_element_user(ACTIVATIONCONFIGPROPERTY$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "activation-config-property" element
+     */
+    public int sizeOfActivationConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ACTIVATIONCONFIGPROPERTY$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "activation-config-property" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setActivationConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType[] activationConfigPropertyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(activationConfigPropertyArray, ACTIVATIONCONFIGPROPERTY$2);
+    }
+    
+    /**
+     * Sets ith "activation-config-property" element
+     */
+    public void setActivationConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType activationConfigProperty)
+    {
+        generatedSetterHelperImpl(activationConfigProperty, ACTIVATIONCONFIGPROPERTY$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "activation-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType insertNewActivationConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType)get_store().insert_element_user(ACTIVATIONCONFIGPROPERTY$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "activation-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType addNewActivationConfigProperty()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationConfigPropertyType)get_store().add_element_user(ACTIVATIONCONFIGPROPERTY$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "activation-config-property" element
+     */
+    public void removeActivationConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ACTIVATIONCONFIGPROPERTY$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$4, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$4);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$4, i);
+        }
+    }
+}
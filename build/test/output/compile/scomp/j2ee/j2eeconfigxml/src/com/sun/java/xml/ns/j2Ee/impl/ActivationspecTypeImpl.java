@@ -0,0 +1,217 @@
+/*
+ * XML Type:  activationspecType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ActivationspecType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML activationspecType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ActivationspecTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ActivationspecType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ActivationspecTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ACTIVATIONSPECCLASS$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activationspec-class");
+    private static final javax.xml.namespace.QName REQUIREDCONFIGPROPERTY$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "required-config-property");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1428314748:
+                if (name.equals(ACTIVATIONSPECCLASS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1531475410:
+                if (name.equals(REQUIREDCONFIGPROPERTY$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "activationspec-class" element
+     */
+    public java.lang.String getActivationspecClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONSPECCLASS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "activationspec-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetActivationspecClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ACTIVATIONSPECCLASS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "activationspec-class" element
+     */
+    public void setActivationspecClass(java.lang.String activationspecClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ACTIVATIONSPECCLASS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ACTIVATIONSPECCLASS$0);
+            }
+            target.setStringValue(activationspecClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "activationspec-class" element
+     */
+    public void xsetActivationspecClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType activationspecClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ACTIVATIONSPECCLASS$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(ACTIVATIONSPECCLASS$0);
+            }
+            target.set(activationspecClass);
+        }
+    }
+    
+    /**
+     * Gets array of all "required-config-property" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[] getRequiredConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(REQUIREDCONFIGPROPERTY$2, targetList);
+            com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[] result = new com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "required-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType getRequiredConfigPropertyArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType)get_store().find_element_user(REQUIREDCONFIGPROPERTY$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "required-config-property" element
+     */
+    public int sizeOfRequiredConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(REQUIREDCONFIGPROPERTY$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "required-config-property" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setRequiredConfigPropertyArray(com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType[] requiredConfigPropertyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(requiredConfigPropertyArray, REQUIREDCONFIGPROPERTY$2);
+    }
+    
+    /**
+     * Sets ith "required-config-property" element
+     */
+    public void setRequiredConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType requiredConfigProperty)
+    {
+        generatedSetterHelperImpl(requiredConfigProperty, REQUIREDCONFIGPROPERTY$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "required-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType insertNewRequiredConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType)get_store().insert_element_user(REQUIREDCONFIGPROPERTY$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "required-config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType addNewRequiredConfigProperty()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RequiredConfigPropertyType)get_store().add_element_user(REQUIREDCONFIGPROPERTY$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "required-config-property" element
+     */
+    public void removeRequiredConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(REQUIREDCONFIGPROPERTY$2, i);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * XML Type:  adminobjectType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AdminobjectType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML adminobjectType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class AdminobjectTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.AdminobjectType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AdminobjectTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ADMINOBJECTINTERFACE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "adminobject-interface");
+    private static final javax.xml.namespace.QName ADMINOBJECTCLASS$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "adminobject-class");
+    private static final javax.xml.namespace.QName CONFIGPROPERTY$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2116339143:
+                if (name.equals(ADMINOBJECTCLASS$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1816684544:
+                if (name.equals(CONFIGPROPERTY$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1870837114:
+                if (name.equals(ADMINOBJECTINTERFACE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "adminobject-interface" element
+     */
+    public java.lang.String getAdminobjectInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADMINOBJECTINTERFACE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "adminobject-interface" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetAdminobjectInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ADMINOBJECTINTERFACE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "adminobject-interface" element
+     */
+    public void setAdminobjectInterface(java.lang.String adminobjectInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADMINOBJECTINTERFACE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ADMINOBJECTINTERFACE$0);
+            }
+            target.setStringValue(adminobjectInterface);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "adminobject-interface" element
+     */
+    public void xsetAdminobjectInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType adminobjectInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ADMINOBJECTINTERFACE$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(ADMINOBJECTINTERFACE$0);
+            }
+            target.set(adminobjectInterface);
+        }
+    }
+    
+    /**
+     * Gets the "adminobject-class" element
+     */
+    public java.lang.String getAdminobjectClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADMINOBJECTCLASS$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "adminobject-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetAdminobjectClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ADMINOBJECTCLASS$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "adminobject-class" element
+     */
+    public void setAdminobjectClass(java.lang.String adminobjectClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADMINOBJECTCLASS$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ADMINOBJECTCLASS$2);
+            }
+            target.setStringValue(adminobjectClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "adminobject-class" element
+     */
+    public void xsetAdminobjectClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType adminobjectClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(ADMINOBJECTCLASS$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(ADMINOBJECTCLASS$2);
+            }
+            target.set(adminobjectClass);
+        }
+    }
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONFIGPROPERTY$4, targetList);
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] result = new com.sun.java.xml.ns.j2Ee.ConfigPropertyType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().find_element_user(CONFIGPROPERTY$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    public int sizeOfConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONFIGPROPERTY$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "config-property" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(configPropertyArray, CONFIGPROPERTY$4);
+    }
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    public void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty)
+    {
+        generatedSetterHelperImpl(configProperty, CONFIGPROPERTY$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().insert_element_user(CONFIGPROPERTY$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().add_element_user(CONFIGPROPERTY$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    public void removeConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONFIGPROPERTY$4, i);
+        }
+    }
+}
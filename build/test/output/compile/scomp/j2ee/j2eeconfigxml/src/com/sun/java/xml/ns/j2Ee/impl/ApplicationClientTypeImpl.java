@@ -0,0 +1,1300 @@
+/*
+ * XML Type:  application-clientType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ApplicationClientType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML application-clientType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ApplicationClientTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ApplicationClientType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ApplicationClientTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName ENVENTRY$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry");
+    private static final javax.xml.namespace.QName EJBREF$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref");
+    private static final javax.xml.namespace.QName RESOURCEREF$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-ref");
+    private static final javax.xml.namespace.QName RESOURCEENVREF$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-env-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREF$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref");
+    private static final javax.xml.namespace.QName CALLBACKHANDLER$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "callback-handler");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATION$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    private static final javax.xml.namespace.QName VERSION$22 = 
+        new javax.xml.namespace.QName("", "version");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(11);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724760285:
+                if (name.equals(EJBREF$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1157594296:
+                if (name.equals(MESSAGEDESTINATION$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case -697466990:
+                if (name.equals(ENVENTRY$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -385533356:
+                if (name.equals(RESOURCEREF$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1777223106:
+                if (name.equals(CALLBACKHANDLER$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 1964231822:
+                if (name.equals(MESSAGEDESTINATIONREF$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 1964650740:
+                if (name.equals(RESOURCEENVREF$12))
+                    return ORDINAL$BASE + 6;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVENTRY$6, targetList);
+            com.sun.java.xml.ns.j2Ee.EnvEntryType[] result = new com.sun.java.xml.ns.j2Ee.EnvEntryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().find_element_user(ENVENTRY$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    public int sizeOfEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRY$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-entry" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envEntryArray, ENVENTRY$6);
+    }
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    public void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry)
+    {
+        generatedSetterHelperImpl(envEntry, ENVENTRY$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().insert_element_user(ENVENTRY$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().add_element_user(ENVENTRY$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    public void removeEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRY$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBREF$8, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().find_element_user(EJBREF$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    public int sizeOfEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBREF$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbRefArray, EJBREF$8);
+    }
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    public void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef)
+    {
+        generatedSetterHelperImpl(ejbRef, EJBREF$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().insert_element_user(EJBREF$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().add_element_user(EJBREF$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    public void removeEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBREF$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEREF$10, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().find_element_user(RESOURCEREF$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    public int sizeOfResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEREF$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceRefArray, RESOURCEREF$10);
+    }
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    public void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef)
+    {
+        generatedSetterHelperImpl(resourceRef, RESOURCEREF$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().insert_element_user(RESOURCEREF$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().add_element_user(RESOURCEREF$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    public void removeResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEREF$10, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEENVREF$12, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().find_element_user(RESOURCEENVREF$12, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    public int sizeOfResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEENVREF$12);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceEnvRefArray, RESOURCEENVREF$12);
+    }
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    public void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef)
+    {
+        generatedSetterHelperImpl(resourceEnvRef, RESOURCEENVREF$12, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().insert_element_user(RESOURCEENVREF$12, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().add_element_user(RESOURCEENVREF$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    public void removeResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEENVREF$12, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATIONREF$14, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().find_element_user(MESSAGEDESTINATIONREF$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    public int sizeOfMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONREF$14);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationRefArray, MESSAGEDESTINATIONREF$14);
+    }
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    public void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef)
+    {
+        generatedSetterHelperImpl(messageDestinationRef, MESSAGEDESTINATIONREF$14, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().insert_element_user(MESSAGEDESTINATIONREF$14, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().add_element_user(MESSAGEDESTINATIONREF$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    public void removeMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONREF$14, i);
+        }
+    }
+    
+    /**
+     * Gets the "callback-handler" element
+     */
+    public java.lang.String getCallbackHandler()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CALLBACKHANDLER$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "callback-handler" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetCallbackHandler()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CALLBACKHANDLER$16, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "callback-handler" element
+     */
+    public boolean isSetCallbackHandler()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CALLBACKHANDLER$16) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "callback-handler" element
+     */
+    public void setCallbackHandler(java.lang.String callbackHandler)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CALLBACKHANDLER$16, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CALLBACKHANDLER$16);
+            }
+            target.setStringValue(callbackHandler);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "callback-handler" element
+     */
+    public void xsetCallbackHandler(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType callbackHandler)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CALLBACKHANDLER$16, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(CALLBACKHANDLER$16);
+            }
+            target.set(callbackHandler);
+        }
+    }
+    
+    /**
+     * Unsets the "callback-handler" element
+     */
+    public void unsetCallbackHandler()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CALLBACKHANDLER$16, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType[] getMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATION$18, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType getMessageDestinationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().find_element_user(MESSAGEDESTINATION$18, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination" element
+     */
+    public int sizeOfMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATION$18);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.MessageDestinationType[] messageDestinationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationArray, MESSAGEDESTINATION$18);
+    }
+    
+    /**
+     * Sets ith "message-destination" element
+     */
+    public void setMessageDestinationArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationType messageDestination)
+    {
+        generatedSetterHelperImpl(messageDestination, MESSAGEDESTINATION$18, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType insertNewMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().insert_element_user(MESSAGEDESTINATION$18, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType addNewMessageDestination()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().add_element_user(MESSAGEDESTINATION$18);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination" element
+     */
+    public void removeMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATION$18, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$20, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$20, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$20);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$20);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$20, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$20, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$20);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$20, i);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$22);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(VERSION$22);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.DeweyVersionType xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$22);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_default_attribute_value(VERSION$22);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$22);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$22);
+            }
+            target.setBigDecimalValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(com.sun.java.xml.ns.j2Ee.DeweyVersionType version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$22);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().add_attribute_user(VERSION$22);
+            }
+            target.set(version);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: application
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ApplicationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * A document containing one application(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a complex type.
+ */
+public class ApplicationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ApplicationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ApplicationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName APPLICATION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "application");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1554253136:
+                if (name.equals(APPLICATION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "application" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ApplicationType getApplication()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ApplicationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ApplicationType)get_store().find_element_user(APPLICATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "application" element
+     */
+    public void setApplication(com.sun.java.xml.ns.j2Ee.ApplicationType application)
+    {
+        generatedSetterHelperImpl(application, APPLICATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "application" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ApplicationType addNewApplication()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ApplicationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ApplicationType)get_store().add_element_user(APPLICATION$0);
+            return target;
+        }
+    }
+}
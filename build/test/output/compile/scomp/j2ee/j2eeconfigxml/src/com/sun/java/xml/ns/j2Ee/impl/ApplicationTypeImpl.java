@@ -0,0 +1,766 @@
+/*
+ * XML Type:  applicationType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ApplicationType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML applicationType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ApplicationTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ApplicationType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ApplicationTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName MODULE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "module");
+    private static final javax.xml.namespace.QName SECURITYROLE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    private static final javax.xml.namespace.QName VERSION$12 = 
+        new javax.xml.namespace.QName("", "version");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1068784020:
+                if (name.equals(MODULE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -750406941:
+                if (name.equals(SECURITYROLE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "module" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ModuleType[] getModuleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MODULE$6, targetList);
+            com.sun.java.xml.ns.j2Ee.ModuleType[] result = new com.sun.java.xml.ns.j2Ee.ModuleType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "module" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ModuleType getModuleArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ModuleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ModuleType)get_store().find_element_user(MODULE$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "module" element
+     */
+    public int sizeOfModuleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MODULE$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "module" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setModuleArray(com.sun.java.xml.ns.j2Ee.ModuleType[] moduleArray)
+    {
+        check_orphaned();
+        arraySetterHelper(moduleArray, MODULE$6);
+    }
+    
+    /**
+     * Sets ith "module" element
+     */
+    public void setModuleArray(int i, com.sun.java.xml.ns.j2Ee.ModuleType module)
+    {
+        generatedSetterHelperImpl(module, MODULE$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "module" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ModuleType insertNewModule(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ModuleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ModuleType)get_store().insert_element_user(MODULE$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "module" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ModuleType addNewModule()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ModuleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ModuleType)get_store().add_element_user(MODULE$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "module" element
+     */
+    public void removeModule(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MODULE$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType[] getSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLE$8, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType getSecurityRoleArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().find_element_user(SECURITYROLE$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role" element
+     */
+    public int sizeOfSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLE$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.SecurityRoleType[] securityRoleArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleArray, SECURITYROLE$8);
+    }
+    
+    /**
+     * Sets ith "security-role" element
+     */
+    public void setSecurityRoleArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleType securityRole)
+    {
+        generatedSetterHelperImpl(securityRole, SECURITYROLE$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType insertNewSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().insert_element_user(SECURITYROLE$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType addNewSecurityRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().add_element_user(SECURITYROLE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role" element
+     */
+    public void removeSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLE$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$10, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$10);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$10, i);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(VERSION$12);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.DeweyVersionType xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$12);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_default_attribute_value(VERSION$12);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$12);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$12);
+            }
+            target.setBigDecimalValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(com.sun.java.xml.ns.j2Ee.DeweyVersionType version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$12);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().add_attribute_user(VERSION$12);
+            }
+            target.set(version);
+        }
+    }
+}
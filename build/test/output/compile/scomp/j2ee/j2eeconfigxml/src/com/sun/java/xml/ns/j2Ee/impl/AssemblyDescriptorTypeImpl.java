@@ -0,0 +1,649 @@
+/*
+ * XML Type:  assembly-descriptorType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML assembly-descriptorType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class AssemblyDescriptorTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AssemblyDescriptorTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SECURITYROLE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role");
+    private static final javax.xml.namespace.QName METHODPERMISSION$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method-permission");
+    private static final javax.xml.namespace.QName CONTAINERTRANSACTION$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "container-transaction");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATION$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination");
+    private static final javax.xml.namespace.QName EXCLUDELIST$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "exclude-list");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1647282286:
+                if (name.equals(CONTAINERTRANSACTION$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -1402041167:
+                if (name.equals(EXCLUDELIST$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -1157594296:
+                if (name.equals(MESSAGEDESTINATION$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -750406941:
+                if (name.equals(SECURITYROLE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1240709691:
+                if (name.equals(METHODPERMISSION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType[] getSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLE$0, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType getSecurityRoleArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().find_element_user(SECURITYROLE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role" element
+     */
+    public int sizeOfSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.SecurityRoleType[] securityRoleArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleArray, SECURITYROLE$0);
+    }
+    
+    /**
+     * Sets ith "security-role" element
+     */
+    public void setSecurityRoleArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleType securityRole)
+    {
+        generatedSetterHelperImpl(securityRole, SECURITYROLE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType insertNewSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().insert_element_user(SECURITYROLE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType addNewSecurityRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().add_element_user(SECURITYROLE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role" element
+     */
+    public void removeSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLE$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "method-permission" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodPermissionType[] getMethodPermissionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(METHODPERMISSION$2, targetList);
+            com.sun.java.xml.ns.j2Ee.MethodPermissionType[] result = new com.sun.java.xml.ns.j2Ee.MethodPermissionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "method-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodPermissionType getMethodPermissionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodPermissionType)get_store().find_element_user(METHODPERMISSION$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "method-permission" element
+     */
+    public int sizeOfMethodPermissionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(METHODPERMISSION$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "method-permission" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMethodPermissionArray(com.sun.java.xml.ns.j2Ee.MethodPermissionType[] methodPermissionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(methodPermissionArray, METHODPERMISSION$2);
+    }
+    
+    /**
+     * Sets ith "method-permission" element
+     */
+    public void setMethodPermissionArray(int i, com.sun.java.xml.ns.j2Ee.MethodPermissionType methodPermission)
+    {
+        generatedSetterHelperImpl(methodPermission, METHODPERMISSION$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "method-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodPermissionType insertNewMethodPermission(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodPermissionType)get_store().insert_element_user(METHODPERMISSION$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "method-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodPermissionType addNewMethodPermission()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodPermissionType)get_store().add_element_user(METHODPERMISSION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "method-permission" element
+     */
+    public void removeMethodPermission(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(METHODPERMISSION$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "container-transaction" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ContainerTransactionType[] getContainerTransactionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONTAINERTRANSACTION$4, targetList);
+            com.sun.java.xml.ns.j2Ee.ContainerTransactionType[] result = new com.sun.java.xml.ns.j2Ee.ContainerTransactionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "container-transaction" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ContainerTransactionType getContainerTransactionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ContainerTransactionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ContainerTransactionType)get_store().find_element_user(CONTAINERTRANSACTION$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "container-transaction" element
+     */
+    public int sizeOfContainerTransactionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONTAINERTRANSACTION$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "container-transaction" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setContainerTransactionArray(com.sun.java.xml.ns.j2Ee.ContainerTransactionType[] containerTransactionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(containerTransactionArray, CONTAINERTRANSACTION$4);
+    }
+    
+    /**
+     * Sets ith "container-transaction" element
+     */
+    public void setContainerTransactionArray(int i, com.sun.java.xml.ns.j2Ee.ContainerTransactionType containerTransaction)
+    {
+        generatedSetterHelperImpl(containerTransaction, CONTAINERTRANSACTION$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "container-transaction" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ContainerTransactionType insertNewContainerTransaction(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ContainerTransactionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ContainerTransactionType)get_store().insert_element_user(CONTAINERTRANSACTION$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "container-transaction" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ContainerTransactionType addNewContainerTransaction()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ContainerTransactionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ContainerTransactionType)get_store().add_element_user(CONTAINERTRANSACTION$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "container-transaction" element
+     */
+    public void removeContainerTransaction(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONTAINERTRANSACTION$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType[] getMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATION$6, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType getMessageDestinationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().find_element_user(MESSAGEDESTINATION$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination" element
+     */
+    public int sizeOfMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATION$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.MessageDestinationType[] messageDestinationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationArray, MESSAGEDESTINATION$6);
+    }
+    
+    /**
+     * Sets ith "message-destination" element
+     */
+    public void setMessageDestinationArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationType messageDestination)
+    {
+        generatedSetterHelperImpl(messageDestination, MESSAGEDESTINATION$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType insertNewMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().insert_element_user(MESSAGEDESTINATION$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType addNewMessageDestination()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().add_element_user(MESSAGEDESTINATION$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination" element
+     */
+    public void removeMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATION$6, i);
+        }
+    }
+    
+    /**
+     * Gets the "exclude-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ExcludeListType getExcludeList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ExcludeListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ExcludeListType)get_store().find_element_user(EXCLUDELIST$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "exclude-list" element
+     */
+    public boolean isSetExcludeList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXCLUDELIST$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "exclude-list" element
+     */
+    public void setExcludeList(com.sun.java.xml.ns.j2Ee.ExcludeListType excludeList)
+    {
+        generatedSetterHelperImpl(excludeList, EXCLUDELIST$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "exclude-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ExcludeListType addNewExcludeList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ExcludeListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ExcludeListType)get_store().add_element_user(EXCLUDELIST$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "exclude-list" element
+     */
+    public void unsetExcludeList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXCLUDELIST$8, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$10, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$10);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$10, i);
+        }
+    }
+}
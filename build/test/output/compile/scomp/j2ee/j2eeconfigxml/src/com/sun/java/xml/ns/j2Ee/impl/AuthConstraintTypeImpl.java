@@ -0,0 +1,358 @@
+/*
+ * XML Type:  auth-constraintType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AuthConstraintType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML auth-constraintType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class AuthConstraintTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.AuthConstraintType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AuthConstraintTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName ROLENAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "role-name");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 289666434:
+                if (name.equals(ROLENAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "role-name" elements
+     */
+    public java.lang.String[] getRoleNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ROLENAME$2, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "role-name" element
+     */
+    public java.lang.String getRoleNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ROLENAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "role-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.RoleNameType[] xgetRoleNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ROLENAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.RoleNameType[] result = new com.sun.java.xml.ns.j2Ee.RoleNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "role-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RoleNameType xgetRoleNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RoleNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RoleNameType)get_store().find_element_user(ROLENAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "role-name" element
+     */
+    public int sizeOfRoleNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ROLENAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "role-name" element
+     */
+    public void setRoleNameArray(java.lang.String[] roleNameArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(roleNameArray, ROLENAME$2);
+        }
+    }
+    
+    /**
+     * Sets ith "role-name" element
+     */
+    public void setRoleNameArray(int i, java.lang.String roleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ROLENAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(roleName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "role-name" element
+     */
+    public void xsetRoleNameArray(com.sun.java.xml.ns.j2Ee.RoleNameType[]roleNameArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(roleNameArray, ROLENAME$2);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "role-name" element
+     */
+    public void xsetRoleNameArray(int i, com.sun.java.xml.ns.j2Ee.RoleNameType roleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RoleNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RoleNameType)get_store().find_element_user(ROLENAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(roleName);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "role-name" element
+     */
+    public void insertRoleName(int i, java.lang.String roleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(ROLENAME$2, i);
+            target.setStringValue(roleName);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "role-name" element
+     */
+    public void addRoleName(java.lang.String roleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ROLENAME$2);
+            target.setStringValue(roleName);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "role-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RoleNameType insertNewRoleName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RoleNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RoleNameType)get_store().insert_element_user(ROLENAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "role-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RoleNameType addNewRoleName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RoleNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RoleNameType)get_store().add_element_user(ROLENAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "role-name" element
+     */
+    public void removeRoleName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ROLENAME$2, i);
+        }
+    }
+}
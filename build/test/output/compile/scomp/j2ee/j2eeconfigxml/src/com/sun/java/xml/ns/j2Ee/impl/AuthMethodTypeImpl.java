@@ -0,0 +1,27 @@
+/*
+ * XML Type:  auth-methodType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AuthMethodType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML auth-methodType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.AuthMethodType.
+ */
+public class AuthMethodTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.sun.java.xml.ns.j2Ee.AuthMethodType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AuthMethodTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected AuthMethodTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
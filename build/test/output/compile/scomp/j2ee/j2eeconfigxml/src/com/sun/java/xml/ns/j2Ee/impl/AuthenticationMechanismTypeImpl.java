@@ -0,0 +1,291 @@
+/*
+ * XML Type:  authentication-mechanismType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML authentication-mechanismType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class AuthenticationMechanismTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AuthenticationMechanismTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName AUTHENTICATIONMECHANISMTYPE$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "authentication-mechanism-type");
+    private static final javax.xml.namespace.QName CREDENTIALINTERFACE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "credential-interface");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -904333501:
+                if (name.equals(CREDENTIALINTERFACE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -306575069:
+                if (name.equals(AUTHENTICATIONMECHANISMTYPE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "authentication-mechanism-type" element
+     */
+    public java.lang.String getAuthenticationMechanismType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AUTHENTICATIONMECHANISMTYPE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "authentication-mechanism-type" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAuthenticationMechanismType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AUTHENTICATIONMECHANISMTYPE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "authentication-mechanism-type" element
+     */
+    public void setAuthenticationMechanismType(java.lang.String authenticationMechanismType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AUTHENTICATIONMECHANISMTYPE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AUTHENTICATIONMECHANISMTYPE$2);
+            }
+            target.setStringValue(authenticationMechanismType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "authentication-mechanism-type" element
+     */
+    public void xsetAuthenticationMechanismType(org.apache.xmlbeans.XmlString authenticationMechanismType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(AUTHENTICATIONMECHANISMTYPE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(AUTHENTICATIONMECHANISMTYPE$2);
+            }
+            target.set(authenticationMechanismType);
+        }
+    }
+    
+    /**
+     * Gets the "credential-interface" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CredentialInterfaceType.Enum getCredentialInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CREDENTIALINTERFACE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.CredentialInterfaceType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "credential-interface" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CredentialInterfaceType xgetCredentialInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CredentialInterfaceType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CredentialInterfaceType)get_store().find_element_user(CREDENTIALINTERFACE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "credential-interface" element
+     */
+    public void setCredentialInterface(com.sun.java.xml.ns.j2Ee.CredentialInterfaceType.Enum credentialInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CREDENTIALINTERFACE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CREDENTIALINTERFACE$4);
+            }
+            target.setEnumValue(credentialInterface);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "credential-interface" element
+     */
+    public void xsetCredentialInterface(com.sun.java.xml.ns.j2Ee.CredentialInterfaceType credentialInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CredentialInterfaceType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CredentialInterfaceType)get_store().find_element_user(CREDENTIALINTERFACE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.CredentialInterfaceType)get_store().add_element_user(CREDENTIALINTERFACE$4);
+            }
+            target.set(credentialInterface);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * XML Type:  cmp-fieldType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.CmpFieldType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML cmp-fieldType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class CmpFieldTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.CmpFieldType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CmpFieldTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName FIELDNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "field-name");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 530483070:
+                if (name.equals(FIELDNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "field-name" element
+     */
+    public java.lang.String getFieldName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIELDNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "field-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaIdentifierType xgetFieldName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaIdentifierType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().find_element_user(FIELDNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "field-name" element
+     */
+    public void setFieldName(java.lang.String fieldName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FIELDNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FIELDNAME$2);
+            }
+            target.setStringValue(fieldName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "field-name" element
+     */
+    public void xsetFieldName(com.sun.java.xml.ns.j2Ee.JavaIdentifierType fieldName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaIdentifierType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().find_element_user(FIELDNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().add_element_user(FIELDNAME$2);
+            }
+            target.set(fieldName);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$4, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$4);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$4, i);
+        }
+    }
+}
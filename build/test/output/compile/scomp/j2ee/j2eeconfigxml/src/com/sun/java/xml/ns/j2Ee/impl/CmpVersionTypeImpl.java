@@ -0,0 +1,27 @@
+/*
+ * XML Type:  cmp-versionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.CmpVersionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML cmp-versionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.CmpVersionType.
+ */
+public class CmpVersionTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.sun.java.xml.ns.j2Ee.CmpVersionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CmpVersionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CmpVersionTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  cmr-field-typeType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.CmrFieldTypeType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML cmr-field-typeType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.CmrFieldTypeType.
+ */
+public class CmrFieldTypeTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.sun.java.xml.ns.j2Ee.CmrFieldTypeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CmrFieldTypeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CmrFieldTypeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  config-property-nameType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML config-property-nameType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType.
+ */
+public class ConfigPropertyNameTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConfigPropertyNameTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ConfigPropertyNameTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
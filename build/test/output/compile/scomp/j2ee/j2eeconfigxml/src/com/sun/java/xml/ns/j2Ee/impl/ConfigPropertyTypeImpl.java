@@ -0,0 +1,389 @@
+/*
+ * XML Type:  config-propertyType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConfigPropertyType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML config-propertyType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ConfigPropertyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ConfigPropertyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConfigPropertyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName CONFIGPROPERTYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property-name");
+    private static final javax.xml.namespace.QName CONFIGPROPERTYTYPE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property-type");
+    private static final javax.xml.namespace.QName CONFIGPROPERTYVALUE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property-value");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -237957788:
+                if (name.equals(CONFIGPROPERTYVALUE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 2070295608:
+                if (name.equals(CONFIGPROPERTYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 2070497511:
+                if (name.equals(CONFIGPROPERTYTYPE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "config-property-name" element
+     */
+    public java.lang.String getConfigPropertyName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "config-property-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType xgetConfigPropertyName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType)get_store().find_element_user(CONFIGPROPERTYNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "config-property-name" element
+     */
+    public void setConfigPropertyName(java.lang.String configPropertyName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONFIGPROPERTYNAME$2);
+            }
+            target.setStringValue(configPropertyName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "config-property-name" element
+     */
+    public void xsetConfigPropertyName(com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType configPropertyName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType)get_store().find_element_user(CONFIGPROPERTYNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyNameType)get_store().add_element_user(CONFIGPROPERTYNAME$2);
+            }
+            target.set(configPropertyName);
+        }
+    }
+    
+    /**
+     * Gets the "config-property-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType.Enum getConfigPropertyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYTYPE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "config-property-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType xgetConfigPropertyType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType)get_store().find_element_user(CONFIGPROPERTYTYPE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "config-property-type" element
+     */
+    public void setConfigPropertyType(com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType.Enum configPropertyType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYTYPE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONFIGPROPERTYTYPE$4);
+            }
+            target.setEnumValue(configPropertyType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "config-property-type" element
+     */
+    public void xsetConfigPropertyType(com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType configPropertyType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType)get_store().find_element_user(CONFIGPROPERTYTYPE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyTypeType)get_store().add_element_user(CONFIGPROPERTYTYPE$4);
+            }
+            target.set(configPropertyType);
+        }
+    }
+    
+    /**
+     * Gets the "config-property-value" element
+     */
+    public java.lang.String getConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYVALUE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "config-property-value" element
+     */
+    public org.apache.xmlbeans.XmlString xgetConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CONFIGPROPERTYVALUE$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "config-property-value" element
+     */
+    public boolean isSetConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONFIGPROPERTYVALUE$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "config-property-value" element
+     */
+    public void setConfigPropertyValue(java.lang.String configPropertyValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONFIGPROPERTYVALUE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONFIGPROPERTYVALUE$6);
+            }
+            target.setStringValue(configPropertyValue);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "config-property-value" element
+     */
+    public void xsetConfigPropertyValue(org.apache.xmlbeans.XmlString configPropertyValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CONFIGPROPERTYVALUE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CONFIGPROPERTYVALUE$6);
+            }
+            target.set(configPropertyValue);
+        }
+    }
+    
+    /**
+     * Unsets the "config-property-value" element
+     */
+    public void unsetConfigPropertyValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONFIGPROPERTYVALUE$6, 0);
+        }
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * XML Type:  connection-definitionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML connection-definitionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ConnectionDefinitionTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConnectionDefinitionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MANAGEDCONNECTIONFACTORYCLASS$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "managedconnectionfactory-class");
+    private static final javax.xml.namespace.QName CONFIGPROPERTY$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property");
+    private static final javax.xml.namespace.QName CONNECTIONFACTORYINTERFACE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connectionfactory-interface");
+    private static final javax.xml.namespace.QName CONNECTIONFACTORYIMPLCLASS$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connectionfactory-impl-class");
+    private static final javax.xml.namespace.QName CONNECTIONINTERFACE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connection-interface");
+    private static final javax.xml.namespace.QName CONNECTIONIMPLCLASS$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connection-impl-class");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1380412136:
+                if (name.equals(CONNECTIONFACTORYINTERFACE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -1003788712:
+                if (name.equals(MANAGEDCONNECTIONFACTORYCLASS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -772220020:
+                if (name.equals(CONNECTIONFACTORYIMPLCLASS$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -591880742:
+                if (name.equals(CONNECTIONIMPLCLASS$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case 703615242:
+                if (name.equals(CONNECTIONINTERFACE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1816684544:
+                if (name.equals(CONFIGPROPERTY$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "managedconnectionfactory-class" element
+     */
+    public java.lang.String getManagedconnectionfactoryClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MANAGEDCONNECTIONFACTORYCLASS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "managedconnectionfactory-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetManagedconnectionfactoryClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MANAGEDCONNECTIONFACTORYCLASS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "managedconnectionfactory-class" element
+     */
+    public void setManagedconnectionfactoryClass(java.lang.String managedconnectionfactoryClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MANAGEDCONNECTIONFACTORYCLASS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MANAGEDCONNECTIONFACTORYCLASS$0);
+            }
+            target.setStringValue(managedconnectionfactoryClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "managedconnectionfactory-class" element
+     */
+    public void xsetManagedconnectionfactoryClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType managedconnectionfactoryClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MANAGEDCONNECTIONFACTORYCLASS$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(MANAGEDCONNECTIONFACTORYCLASS$0);
+            }
+            target.set(managedconnectionfactoryClass);
+        }
+    }
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONFIGPROPERTY$2, targetList);
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] result = new com.sun.java.xml.ns.j2Ee.ConfigPropertyType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().find_element_user(CONFIGPROPERTY$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    public int sizeOfConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONFIGPROPERTY$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "config-property" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(configPropertyArray, CONFIGPROPERTY$2);
+    }
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    public void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty)
+    {
+        generatedSetterHelperImpl(configProperty, CONFIGPROPERTY$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().insert_element_user(CONFIGPROPERTY$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().add_element_user(CONFIGPROPERTY$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    public void removeConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONFIGPROPERTY$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "connectionfactory-interface" element
+     */
+    public java.lang.String getConnectionfactoryInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONFACTORYINTERFACE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "connectionfactory-interface" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionfactoryInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONFACTORYINTERFACE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "connectionfactory-interface" element
+     */
+    public void setConnectionfactoryInterface(java.lang.String connectionfactoryInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONFACTORYINTERFACE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONNECTIONFACTORYINTERFACE$4);
+            }
+            target.setStringValue(connectionfactoryInterface);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "connectionfactory-interface" element
+     */
+    public void xsetConnectionfactoryInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionfactoryInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONFACTORYINTERFACE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(CONNECTIONFACTORYINTERFACE$4);
+            }
+            target.set(connectionfactoryInterface);
+        }
+    }
+    
+    /**
+     * Gets the "connectionfactory-impl-class" element
+     */
+    public java.lang.String getConnectionfactoryImplClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONFACTORYIMPLCLASS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "connectionfactory-impl-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionfactoryImplClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONFACTORYIMPLCLASS$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "connectionfactory-impl-class" element
+     */
+    public void setConnectionfactoryImplClass(java.lang.String connectionfactoryImplClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONFACTORYIMPLCLASS$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONNECTIONFACTORYIMPLCLASS$6);
+            }
+            target.setStringValue(connectionfactoryImplClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "connectionfactory-impl-class" element
+     */
+    public void xsetConnectionfactoryImplClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionfactoryImplClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONFACTORYIMPLCLASS$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(CONNECTIONFACTORYIMPLCLASS$6);
+            }
+            target.set(connectionfactoryImplClass);
+        }
+    }
+    
+    /**
+     * Gets the "connection-interface" element
+     */
+    public java.lang.String getConnectionInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONINTERFACE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "connection-interface" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONINTERFACE$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "connection-interface" element
+     */
+    public void setConnectionInterface(java.lang.String connectionInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONINTERFACE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONNECTIONINTERFACE$8);
+            }
+            target.setStringValue(connectionInterface);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "connection-interface" element
+     */
+    public void xsetConnectionInterface(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionInterface)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONINTERFACE$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(CONNECTIONINTERFACE$8);
+            }
+            target.set(connectionInterface);
+        }
+    }
+    
+    /**
+     * Gets the "connection-impl-class" element
+     */
+    public java.lang.String getConnectionImplClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONIMPLCLASS$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "connection-impl-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetConnectionImplClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONIMPLCLASS$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "connection-impl-class" element
+     */
+    public void setConnectionImplClass(java.lang.String connectionImplClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTIONIMPLCLASS$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONNECTIONIMPLCLASS$10);
+            }
+            target.setStringValue(connectionImplClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "connection-impl-class" element
+     */
+    public void xsetConnectionImplClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType connectionImplClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(CONNECTIONIMPLCLASS$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(CONNECTIONIMPLCLASS$10);
+            }
+            target.set(connectionImplClass);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: connector
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConnectorDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * A document containing one connector(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a complex type.
+ */
+public class ConnectorDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ConnectorDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConnectorDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONNECTOR$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connector");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -579210163:
+                if (name.equals(CONNECTOR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "connector" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectorType getConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConnectorType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConnectorType)get_store().find_element_user(CONNECTOR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "connector" element
+     */
+    public void setConnector(com.sun.java.xml.ns.j2Ee.ConnectorType connector)
+    {
+        generatedSetterHelperImpl(connector, CONNECTOR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "connector" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectorType addNewConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConnectorType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConnectorType)get_store().add_element_user(CONNECTOR$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,858 @@
+/*
+ * XML Type:  connectorType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ConnectorType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML connectorType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ConnectorTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ConnectorType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ConnectorTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName VENDORNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "vendor-name");
+    private static final javax.xml.namespace.QName EISTYPE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "eis-type");
+    private static final javax.xml.namespace.QName RESOURCEADAPTERVERSION$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resourceadapter-version");
+    private static final javax.xml.namespace.QName LICENSE$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "license");
+    private static final javax.xml.namespace.QName RESOURCEADAPTER$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resourceadapter");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    private static final javax.xml.namespace.QName VERSION$18 = 
+        new javax.xml.namespace.QName("", "version");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(9);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 13304816:
+                if (name.equals(VENDORNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 166757441:
+                if (name.equals(LICENSE$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 663732876:
+                if (name.equals(RESOURCEADAPTERVERSION$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1966277112:
+                if (name.equals(EISTYPE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 2114769793:
+                if (name.equals(RESOURCEADAPTER$14))
+                    return ORDINAL$BASE + 7;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "vendor-name" element
+     */
+    public org.apache.xmlbeans.XmlObject getVendorName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().find_element_user(VENDORNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "vendor-name" element
+     */
+    public void setVendorName(org.apache.xmlbeans.XmlObject vendorName)
+    {
+        generatedSetterHelperImpl(vendorName, VENDORNAME$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "vendor-name" element
+     */
+    public org.apache.xmlbeans.XmlObject addNewVendorName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlObject target = null;
+            target = (org.apache.xmlbeans.XmlObject)get_store().add_element_user(VENDORNAME$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "eis-type" element
+     */
+    public java.lang.String getEisType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EISTYPE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "eis-type" element
+     */
+    public org.apache.xmlbeans.XmlString xgetEisType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EISTYPE$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "eis-type" element
+     */
+    public void setEisType(java.lang.String eisType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EISTYPE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EISTYPE$8);
+            }
+            target.setStringValue(eisType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "eis-type" element
+     */
+    public void xsetEisType(org.apache.xmlbeans.XmlString eisType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EISTYPE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EISTYPE$8);
+            }
+            target.set(eisType);
+        }
+    }
+    
+    /**
+     * Gets the "resourceadapter-version" element
+     */
+    public java.lang.String getResourceadapterVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESOURCEADAPTERVERSION$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "resourceadapter-version" element
+     */
+    public org.apache.xmlbeans.XmlString xgetResourceadapterVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RESOURCEADAPTERVERSION$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "resourceadapter-version" element
+     */
+    public void setResourceadapterVersion(java.lang.String resourceadapterVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESOURCEADAPTERVERSION$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESOURCEADAPTERVERSION$10);
+            }
+            target.setStringValue(resourceadapterVersion);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "resourceadapter-version" element
+     */
+    public void xsetResourceadapterVersion(org.apache.xmlbeans.XmlString resourceadapterVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(RESOURCEADAPTERVERSION$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(RESOURCEADAPTERVERSION$10);
+            }
+            target.set(resourceadapterVersion);
+        }
+    }
+    
+    /**
+     * Gets the "license" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LicenseType getLicense()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LicenseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LicenseType)get_store().find_element_user(LICENSE$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "license" element
+     */
+    public boolean isSetLicense()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LICENSE$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "license" element
+     */
+    public void setLicense(com.sun.java.xml.ns.j2Ee.LicenseType license)
+    {
+        generatedSetterHelperImpl(license, LICENSE$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "license" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LicenseType addNewLicense()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LicenseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LicenseType)get_store().add_element_user(LICENSE$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "license" element
+     */
+    public void unsetLicense()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LICENSE$12, 0);
+        }
+    }
+    
+    /**
+     * Gets the "resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceadapterType getResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceadapterType)get_store().find_element_user(RESOURCEADAPTER$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "resourceadapter" element
+     */
+    public void setResourceadapter(com.sun.java.xml.ns.j2Ee.ResourceadapterType resourceadapter)
+    {
+        generatedSetterHelperImpl(resourceadapter, RESOURCEADAPTER$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceadapterType addNewResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceadapterType)get_store().add_element_user(RESOURCEADAPTER$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$16, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$16);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$16);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$16, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$16, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$16);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$16, i);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$18);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(VERSION$18);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.DeweyVersionType xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$18);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_default_attribute_value(VERSION$18);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$18);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$18);
+            }
+            target.setBigDecimalValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(com.sun.java.xml.ns.j2Ee.DeweyVersionType version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$18);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().add_attribute_user(VERSION$18);
+            }
+            target.set(version);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * XML Type:  container-transactionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ContainerTransactionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML container-transactionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ContainerTransactionTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ContainerTransactionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ContainerTransactionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName METHOD$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method");
+    private static final javax.xml.namespace.QName TRANSATTRIBUTE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "trans-attribute");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1077554975:
+                if (name.equals(METHOD$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -828944969:
+                if (name.equals(TRANSATTRIBUTE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "method" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodType[] getMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(METHOD$2, targetList);
+            com.sun.java.xml.ns.j2Ee.MethodType[] result = new com.sun.java.xml.ns.j2Ee.MethodType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodType getMethodArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodType)get_store().find_element_user(METHOD$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "method" element
+     */
+    public int sizeOfMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(METHOD$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "method" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMethodArray(com.sun.java.xml.ns.j2Ee.MethodType[] methodArray)
+    {
+        check_orphaned();
+        arraySetterHelper(methodArray, METHOD$2);
+    }
+    
+    /**
+     * Sets ith "method" element
+     */
+    public void setMethodArray(int i, com.sun.java.xml.ns.j2Ee.MethodType method)
+    {
+        generatedSetterHelperImpl(method, METHOD$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodType insertNewMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodType)get_store().insert_element_user(METHOD$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodType addNewMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodType)get_store().add_element_user(METHOD$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "method" element
+     */
+    public void removeMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(METHOD$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "trans-attribute" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransAttributeType.Enum getTransAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSATTRIBUTE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.TransAttributeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "trans-attribute" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransAttributeType xgetTransAttribute()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransAttributeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransAttributeType)get_store().find_element_user(TRANSATTRIBUTE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "trans-attribute" element
+     */
+    public void setTransAttribute(com.sun.java.xml.ns.j2Ee.TransAttributeType.Enum transAttribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSATTRIBUTE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TRANSATTRIBUTE$4);
+            }
+            target.setEnumValue(transAttribute);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "trans-attribute" element
+     */
+    public void xsetTransAttribute(com.sun.java.xml.ns.j2Ee.TransAttributeType transAttribute)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransAttributeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransAttributeType)get_store().find_element_user(TRANSATTRIBUTE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TransAttributeType)get_store().add_element_user(TRANSATTRIBUTE$4);
+            }
+            target.set(transAttribute);
+        }
+    }
+}
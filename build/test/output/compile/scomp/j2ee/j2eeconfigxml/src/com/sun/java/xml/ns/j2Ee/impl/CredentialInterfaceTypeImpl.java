@@ -0,0 +1,27 @@
+/*
+ * XML Type:  credential-interfaceType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.CredentialInterfaceType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML credential-interfaceType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.CredentialInterfaceType.
+ */
+public class CredentialInterfaceTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.sun.java.xml.ns.j2Ee.CredentialInterfaceType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CredentialInterfaceTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected CredentialInterfaceTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
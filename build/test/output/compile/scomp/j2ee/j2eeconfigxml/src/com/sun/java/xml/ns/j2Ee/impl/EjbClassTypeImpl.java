@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ejb-classType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EjbClassType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML ejb-classType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.EjbClassType.
+ */
+public class EjbClassTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.sun.java.xml.ns.j2Ee.EjbClassType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EjbClassTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EjbClassTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,832 @@
+/*
+ * XML Type:  ejb-jarType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EjbJarType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML ejb-jarType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EjbJarTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EjbJarType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EjbJarTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName ENTERPRISEBEANS$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "enterprise-beans");
+    private static final javax.xml.namespace.QName RELATIONSHIPS$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "relationships");
+    private static final javax.xml.namespace.QName ASSEMBLYDESCRIPTOR$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "assembly-descriptor");
+    private static final javax.xml.namespace.QName EJBCLIENTJAR$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-client-jar");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    private static final javax.xml.namespace.QName VERSION$16 = 
+        new javax.xml.namespace.QName("", "version");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(8);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 307223895:
+                if (name.equals(ENTERPRISEBEANS$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 472535355:
+                if (name.equals(RELATIONSHIPS$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1050287241:
+                if (name.equals(EJBCLIENTJAR$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1897690550:
+                if (name.equals(ASSEMBLYDESCRIPTOR$10))
+                    return ORDINAL$BASE + 5;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "enterprise-beans" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnterpriseBeansType getEnterpriseBeans()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnterpriseBeansType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnterpriseBeansType)get_store().find_element_user(ENTERPRISEBEANS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "enterprise-beans" element
+     */
+    public void setEnterpriseBeans(com.sun.java.xml.ns.j2Ee.EnterpriseBeansType enterpriseBeans)
+    {
+        generatedSetterHelperImpl(enterpriseBeans, ENTERPRISEBEANS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "enterprise-beans" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnterpriseBeansType addNewEnterpriseBeans()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnterpriseBeansType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnterpriseBeansType)get_store().add_element_user(ENTERPRISEBEANS$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "relationships" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RelationshipsType getRelationships()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RelationshipsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RelationshipsType)get_store().find_element_user(RELATIONSHIPS$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "relationships" element
+     */
+    public boolean isSetRelationships()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RELATIONSHIPS$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "relationships" element
+     */
+    public void setRelationships(com.sun.java.xml.ns.j2Ee.RelationshipsType relationships)
+    {
+        generatedSetterHelperImpl(relationships, RELATIONSHIPS$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "relationships" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RelationshipsType addNewRelationships()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RelationshipsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RelationshipsType)get_store().add_element_user(RELATIONSHIPS$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "relationships" element
+     */
+    public void unsetRelationships()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RELATIONSHIPS$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "assembly-descriptor" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType getAssemblyDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType)get_store().find_element_user(ASSEMBLYDESCRIPTOR$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "assembly-descriptor" element
+     */
+    public boolean isSetAssemblyDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ASSEMBLYDESCRIPTOR$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "assembly-descriptor" element
+     */
+    public void setAssemblyDescriptor(com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType assemblyDescriptor)
+    {
+        generatedSetterHelperImpl(assemblyDescriptor, ASSEMBLYDESCRIPTOR$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "assembly-descriptor" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType addNewAssemblyDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AssemblyDescriptorType)get_store().add_element_user(ASSEMBLYDESCRIPTOR$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "assembly-descriptor" element
+     */
+    public void unsetAssemblyDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ASSEMBLYDESCRIPTOR$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-client-jar" element
+     */
+    public java.lang.String getEjbClientJar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLIENTJAR$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-client-jar" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetEjbClientJar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(EJBCLIENTJAR$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ejb-client-jar" element
+     */
+    public boolean isSetEjbClientJar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBCLIENTJAR$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-client-jar" element
+     */
+    public void setEjbClientJar(java.lang.String ejbClientJar)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLIENTJAR$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBCLIENTJAR$12);
+            }
+            target.setStringValue(ejbClientJar);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-client-jar" element
+     */
+    public void xsetEjbClientJar(com.sun.java.xml.ns.j2Ee.PathType ejbClientJar)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(EJBCLIENTJAR$12, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(EJBCLIENTJAR$12);
+            }
+            target.set(ejbClientJar);
+        }
+    }
+    
+    /**
+     * Unsets the "ejb-client-jar" element
+     */
+    public void unsetEjbClientJar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBCLIENTJAR$12, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$14, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$14);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$14);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$14, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$14, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$14, i);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$16);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(VERSION$16);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.DeweyVersionType xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$16);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_default_attribute_value(VERSION$16);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$16);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$16);
+            }
+            target.setBigDecimalValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(com.sun.java.xml.ns.j2Ee.DeweyVersionType version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeweyVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().find_attribute_user(VERSION$16);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.DeweyVersionType)get_store().add_attribute_user(VERSION$16);
+            }
+            target.set(version);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ejb-ref-nameType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EjbRefNameType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML ejb-ref-nameType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.EjbRefNameType.
+ */
+public class EjbRefNameTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.sun.java.xml.ns.j2Ee.EjbRefNameType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EjbRefNameTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EjbRefNameTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * XML Type:  ejb-relationship-roleType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EjbRelationshipRoleType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML ejb-relationship-roleType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EjbRelationshipRoleTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EjbRelationshipRoleType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EjbRelationshipRoleTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName EJBRELATIONSHIPROLENAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-relationship-role-name");
+    private static final javax.xml.namespace.QName MULTIPLICITY$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "multiplicity");
+    private static final javax.xml.namespace.QName CASCADEDELETE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "cascade-delete");
+    private static final javax.xml.namespace.QName RELATIONSHIPROLESOURCE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "relationship-role-source");
+    private static final javax.xml.namespace.QName CMRFIELD$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "cmr-field");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(7);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1140115555:
+                if (name.equals(EJBRELATIONSHIPROLENAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 259921279:
+                if (name.equals(MULTIPLICITY$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 887994084:
+                if (name.equals(CASCADEDELETE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1068823869:
+                if (name.equals(RELATIONSHIPROLESOURCE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1920344117:
+                if (name.equals(CMRFIELD$10))
+                    return ORDINAL$BASE + 5;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-relationship-role-name" element
+     */
+    public java.lang.String getEjbRelationshipRoleName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBRELATIONSHIPROLENAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-relationship-role-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetEjbRelationshipRoleName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(EJBRELATIONSHIPROLENAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ejb-relationship-role-name" element
+     */
+    public boolean isSetEjbRelationshipRoleName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBRELATIONSHIPROLENAME$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-relationship-role-name" element
+     */
+    public void setEjbRelationshipRoleName(java.lang.String ejbRelationshipRoleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBRELATIONSHIPROLENAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBRELATIONSHIPROLENAME$2);
+            }
+            target.setStringValue(ejbRelationshipRoleName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-relationship-role-name" element
+     */
+    public void xsetEjbRelationshipRoleName(com.sun.java.xml.ns.j2Ee.String ejbRelationshipRoleName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(EJBRELATIONSHIPROLENAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(EJBRELATIONSHIPROLENAME$2);
+            }
+            target.set(ejbRelationshipRoleName);
+        }
+    }
+    
+    /**
+     * Unsets the "ejb-relationship-role-name" element
+     */
+    public void unsetEjbRelationshipRoleName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBRELATIONSHIPROLENAME$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "multiplicity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MultiplicityType.Enum getMultiplicity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MULTIPLICITY$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.MultiplicityType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "multiplicity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MultiplicityType xgetMultiplicity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MultiplicityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MultiplicityType)get_store().find_element_user(MULTIPLICITY$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "multiplicity" element
+     */
+    public void setMultiplicity(com.sun.java.xml.ns.j2Ee.MultiplicityType.Enum multiplicity)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MULTIPLICITY$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MULTIPLICITY$4);
+            }
+            target.setEnumValue(multiplicity);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "multiplicity" element
+     */
+    public void xsetMultiplicity(com.sun.java.xml.ns.j2Ee.MultiplicityType multiplicity)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MultiplicityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MultiplicityType)get_store().find_element_user(MULTIPLICITY$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MultiplicityType)get_store().add_element_user(MULTIPLICITY$4);
+            }
+            target.set(multiplicity);
+        }
+    }
+    
+    /**
+     * Gets the "cascade-delete" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EmptyType getCascadeDelete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EmptyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EmptyType)get_store().find_element_user(CASCADEDELETE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "cascade-delete" element
+     */
+    public boolean isSetCascadeDelete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CASCADEDELETE$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "cascade-delete" element
+     */
+    public void setCascadeDelete(com.sun.java.xml.ns.j2Ee.EmptyType cascadeDelete)
+    {
+        generatedSetterHelperImpl(cascadeDelete, CASCADEDELETE$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "cascade-delete" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EmptyType addNewCascadeDelete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EmptyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EmptyType)get_store().add_element_user(CASCADEDELETE$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "cascade-delete" element
+     */
+    public void unsetCascadeDelete()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CASCADEDELETE$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "relationship-role-source" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType getRelationshipRoleSource()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType)get_store().find_element_user(RELATIONSHIPROLESOURCE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "relationship-role-source" element
+     */
+    public void setRelationshipRoleSource(com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType relationshipRoleSource)
+    {
+        generatedSetterHelperImpl(relationshipRoleSource, RELATIONSHIPROLESOURCE$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "relationship-role-source" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType addNewRelationshipRoleSource()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RelationshipRoleSourceType)get_store().add_element_user(RELATIONSHIPROLESOURCE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "cmr-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmrFieldType getCmrField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmrFieldType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmrFieldType)get_store().find_element_user(CMRFIELD$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "cmr-field" element
+     */
+    public boolean isSetCmrField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CMRFIELD$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "cmr-field" element
+     */
+    public void setCmrField(com.sun.java.xml.ns.j2Ee.CmrFieldType cmrField)
+    {
+        generatedSetterHelperImpl(cmrField, CMRFIELD$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "cmr-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmrFieldType addNewCmrField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmrFieldType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmrFieldType)get_store().add_element_user(CMRFIELD$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "cmr-field" element
+     */
+    public void unsetCmrField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CMRFIELD$10, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$12, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$12, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$12);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$12);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$12, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$12, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$12, i);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * XML Type:  enterprise-beansType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EnterpriseBeansType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML enterprise-beansType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EnterpriseBeansTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EnterpriseBeansType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnterpriseBeansTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SESSION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "session");
+    private static final javax.xml.namespace.QName ENTITY$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "entity");
+    private static final javax.xml.namespace.QName MESSAGEDRIVEN$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-driven");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1298275357:
+                if (name.equals(ENTITY$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -848151382:
+                if (name.equals(MESSAGEDRIVEN$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1984987798:
+                if (name.equals(SESSION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "session" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionBeanType[] getSessionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SESSION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.SessionBeanType[] result = new com.sun.java.xml.ns.j2Ee.SessionBeanType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "session" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionBeanType getSessionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionBeanType)get_store().find_element_user(SESSION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "session" element
+     */
+    public int sizeOfSessionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SESSION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "session" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSessionArray(com.sun.java.xml.ns.j2Ee.SessionBeanType[] sessionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(sessionArray, SESSION$0);
+    }
+    
+    /**
+     * Sets ith "session" element
+     */
+    public void setSessionArray(int i, com.sun.java.xml.ns.j2Ee.SessionBeanType session)
+    {
+        generatedSetterHelperImpl(session, SESSION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "session" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionBeanType insertNewSession(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionBeanType)get_store().insert_element_user(SESSION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "session" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionBeanType addNewSession()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionBeanType)get_store().add_element_user(SESSION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "session" element
+     */
+    public void removeSession(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SESSION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "entity" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EntityBeanType[] getEntityArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENTITY$2, targetList);
+            com.sun.java.xml.ns.j2Ee.EntityBeanType[] result = new com.sun.java.xml.ns.j2Ee.EntityBeanType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "entity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EntityBeanType getEntityArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EntityBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EntityBeanType)get_store().find_element_user(ENTITY$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "entity" element
+     */
+    public int sizeOfEntityArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENTITY$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "entity" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEntityArray(com.sun.java.xml.ns.j2Ee.EntityBeanType[] entityArray)
+    {
+        check_orphaned();
+        arraySetterHelper(entityArray, ENTITY$2);
+    }
+    
+    /**
+     * Sets ith "entity" element
+     */
+    public void setEntityArray(int i, com.sun.java.xml.ns.j2Ee.EntityBeanType entity)
+    {
+        generatedSetterHelperImpl(entity, ENTITY$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "entity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EntityBeanType insertNewEntity(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EntityBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EntityBeanType)get_store().insert_element_user(ENTITY$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "entity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EntityBeanType addNewEntity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EntityBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EntityBeanType)get_store().add_element_user(ENTITY$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "entity" element
+     */
+    public void removeEntity(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENTITY$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-driven" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType[] getMessageDrivenArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDRIVEN$4, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType[] result = new com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-driven" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType getMessageDrivenArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType)get_store().find_element_user(MESSAGEDRIVEN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-driven" element
+     */
+    public int sizeOfMessageDrivenArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDRIVEN$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-driven" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDrivenArray(com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType[] messageDrivenArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDrivenArray, MESSAGEDRIVEN$4);
+    }
+    
+    /**
+     * Sets ith "message-driven" element
+     */
+    public void setMessageDrivenArray(int i, com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType messageDriven)
+    {
+        generatedSetterHelperImpl(messageDriven, MESSAGEDRIVEN$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-driven" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType insertNewMessageDriven(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType)get_store().insert_element_user(MESSAGEDRIVEN$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-driven" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType addNewMessageDriven()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType)get_store().add_element_user(MESSAGEDRIVEN$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-driven" element
+     */
+    public void removeMessageDriven(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDRIVEN$4, i);
+        }
+    }
+}
@@ -0,0 +1,2698 @@
+/*
+ * XML Type:  entity-beanType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EntityBeanType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML entity-beanType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EntityBeanTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EntityBeanType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EntityBeanTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName EJBNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-name");
+    private static final javax.xml.namespace.QName HOME$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "home");
+    private static final javax.xml.namespace.QName REMOTE$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "remote");
+    private static final javax.xml.namespace.QName LOCALHOME$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "local-home");
+    private static final javax.xml.namespace.QName LOCAL$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "local");
+    private static final javax.xml.namespace.QName EJBCLASS$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-class");
+    private static final javax.xml.namespace.QName PERSISTENCETYPE$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "persistence-type");
+    private static final javax.xml.namespace.QName PRIMKEYCLASS$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "prim-key-class");
+    private static final javax.xml.namespace.QName REENTRANT$22 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "reentrant");
+    private static final javax.xml.namespace.QName CMPVERSION$24 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "cmp-version");
+    private static final javax.xml.namespace.QName ABSTRACTSCHEMANAME$26 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "abstract-schema-name");
+    private static final javax.xml.namespace.QName CMPFIELD$28 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "cmp-field");
+    private static final javax.xml.namespace.QName PRIMKEYFIELD$30 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "primkey-field");
+    private static final javax.xml.namespace.QName ENVENTRY$32 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry");
+    private static final javax.xml.namespace.QName EJBREF$34 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref");
+    private static final javax.xml.namespace.QName EJBLOCALREF$36 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-local-ref");
+    private static final javax.xml.namespace.QName SERVICEREF$38 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "service-ref");
+    private static final javax.xml.namespace.QName SECURITYROLEREF$40 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role-ref");
+    private static final javax.xml.namespace.QName SECURITYIDENTITY$42 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-identity");
+    private static final javax.xml.namespace.QName RESOURCEREF$44 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-ref");
+    private static final javax.xml.namespace.QName RESOURCEENVREF$46 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-env-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREF$48 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref");
+    private static final javax.xml.namespace.QName QUERY$50 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "query");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$52 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(27);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2119059799:
+                if (name.equals(SECURITYROLEREF$40))
+                    return ORDINAL$BASE + 20;
+                break;
+            case -1987074901:
+                if (name.equals(SECURITYIDENTITY$42))
+                    return ORDINAL$BASE + 21;
+                break;
+            case -1929539205:
+                if (name.equals(SERVICEREF$38))
+                    return ORDINAL$BASE + 19;
+                break;
+            case -1928083973:
+                if (name.equals(EJBNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1724760285:
+                if (name.equals(EJBREF$34))
+                    return ORDINAL$BASE + 17;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1552774643:
+                if (name.equals(REENTRANT$22))
+                    return ORDINAL$BASE + 11;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$52))
+                    return ORDINAL$BASE + 26;
+                break;
+            case -934610874:
+                if (name.equals(REMOTE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -852436143:
+                if (name.equals(CMPVERSION$24))
+                    return ORDINAL$BASE + 12;
+                break;
+            case -851851741:
+                if (name.equals(PRIMKEYCLASS$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case -697466990:
+                if (name.equals(ENVENTRY$32))
+                    return ORDINAL$BASE + 16;
+                break;
+            case -558483032:
+                if (name.equals(PERSISTENCETYPE$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case -385533356:
+                if (name.equals(RESOURCEREF$44))
+                    return ORDINAL$BASE + 22;
+                break;
+            case -238175807:
+                if (name.equals(EJBLOCALREF$36))
+                    return ORDINAL$BASE + 18;
+                break;
+            case 3208415:
+                if (name.equals(HOME$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 103145323:
+                if (name.equals(LOCAL$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 107944136:
+                if (name.equals(QUERY$50))
+                    return ORDINAL$BASE + 25;
+                break;
+            case 145336755:
+                if (name.equals(CMPFIELD$28))
+                    return ORDINAL$BASE + 14;
+                break;
+            case 349096968:
+                if (name.equals(EJBCLASS$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 593283110:
+                if (name.equals(PRIMKEYFIELD$30))
+                    return ORDINAL$BASE + 15;
+                break;
+            case 1257185793:
+                if (name.equals(LOCALHOME$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1619304972:
+                if (name.equals(ABSTRACTSCHEMANAME$26))
+                    return ORDINAL$BASE + 13;
+                break;
+            case 1964231822:
+                if (name.equals(MESSAGEDESTINATIONREF$48))
+                    return ORDINAL$BASE + 24;
+                break;
+            case 1964650740:
+                if (name.equals(RESOURCEENVREF$46))
+                    return ORDINAL$BASE + 23;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-name" element
+     */
+    public java.lang.String getEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbNameType xgetEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-name" element
+     */
+    public void setEjbName(java.lang.String ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBNAME$6);
+            }
+            target.setStringValue(ejbName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-name" element
+     */
+    public void xsetEjbName(com.sun.java.xml.ns.j2Ee.EjbNameType ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().add_element_user(EJBNAME$6);
+            }
+            target.set(ejbName);
+        }
+    }
+    
+    /**
+     * Gets the "home" element
+     */
+    public java.lang.String getHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "home" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HomeType xgetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "home" element
+     */
+    public boolean isSetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HOME$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "home" element
+     */
+    public void setHome(java.lang.String home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOME$8);
+            }
+            target.setStringValue(home);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "home" element
+     */
+    public void xsetHome(com.sun.java.xml.ns.j2Ee.HomeType home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().add_element_user(HOME$8);
+            }
+            target.set(home);
+        }
+    }
+    
+    /**
+     * Unsets the "home" element
+     */
+    public void unsetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HOME$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "remote" element
+     */
+    public java.lang.String getRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "remote" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RemoteType xgetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "remote" element
+     */
+    public boolean isSetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(REMOTE$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "remote" element
+     */
+    public void setRemote(java.lang.String remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REMOTE$10);
+            }
+            target.setStringValue(remote);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "remote" element
+     */
+    public void xsetRemote(com.sun.java.xml.ns.j2Ee.RemoteType remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().add_element_user(REMOTE$10);
+            }
+            target.set(remote);
+        }
+    }
+    
+    /**
+     * Unsets the "remote" element
+     */
+    public void unsetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(REMOTE$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "local-home" element
+     */
+    public java.lang.String getLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "local-home" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocalHomeType xgetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalHomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().find_element_user(LOCALHOME$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "local-home" element
+     */
+    public boolean isSetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHOME$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "local-home" element
+     */
+    public void setLocalHome(java.lang.String localHome)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCALHOME$12);
+            }
+            target.setStringValue(localHome);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "local-home" element
+     */
+    public void xsetLocalHome(com.sun.java.xml.ns.j2Ee.LocalHomeType localHome)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalHomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().add_element_user(LOCALHOME$12);
+            }
+            target.set(localHome);
+        }
+    }
+    
+    /**
+     * Unsets the "local-home" element
+     */
+    public void unsetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHOME$12, 0);
+        }
+    }
+    
+    /**
+     * Gets the "local" element
+     */
+    public java.lang.String getLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "local" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocalType xgetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().find_element_user(LOCAL$14, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "local" element
+     */
+    public boolean isSetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCAL$14) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "local" element
+     */
+    public void setLocal(java.lang.String local)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCAL$14);
+            }
+            target.setStringValue(local);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "local" element
+     */
+    public void xsetLocal(com.sun.java.xml.ns.j2Ee.LocalType local)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().add_element_user(LOCAL$14);
+            }
+            target.set(local);
+        }
+    }
+    
+    /**
+     * Unsets the "local" element
+     */
+    public void unsetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCAL$14, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-class" element
+     */
+    public java.lang.String getEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbClassType xgetEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$16, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-class" element
+     */
+    public void setEjbClass(java.lang.String ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$16, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBCLASS$16);
+            }
+            target.setStringValue(ejbClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-class" element
+     */
+    public void xsetEjbClass(com.sun.java.xml.ns.j2Ee.EjbClassType ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$16, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().add_element_user(EJBCLASS$16);
+            }
+            target.set(ejbClass);
+        }
+    }
+    
+    /**
+     * Gets the "persistence-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PersistenceTypeType.Enum getPersistenceType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PERSISTENCETYPE$18, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.PersistenceTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "persistence-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PersistenceTypeType xgetPersistenceType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PersistenceTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PersistenceTypeType)get_store().find_element_user(PERSISTENCETYPE$18, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "persistence-type" element
+     */
+    public void setPersistenceType(com.sun.java.xml.ns.j2Ee.PersistenceTypeType.Enum persistenceType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PERSISTENCETYPE$18, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PERSISTENCETYPE$18);
+            }
+            target.setEnumValue(persistenceType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "persistence-type" element
+     */
+    public void xsetPersistenceType(com.sun.java.xml.ns.j2Ee.PersistenceTypeType persistenceType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PersistenceTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PersistenceTypeType)get_store().find_element_user(PERSISTENCETYPE$18, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PersistenceTypeType)get_store().add_element_user(PERSISTENCETYPE$18);
+            }
+            target.set(persistenceType);
+        }
+    }
+    
+    /**
+     * Gets the "prim-key-class" element
+     */
+    public java.lang.String getPrimKeyClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRIMKEYCLASS$20, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "prim-key-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetPrimKeyClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(PRIMKEYCLASS$20, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "prim-key-class" element
+     */
+    public void setPrimKeyClass(java.lang.String primKeyClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRIMKEYCLASS$20, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRIMKEYCLASS$20);
+            }
+            target.setStringValue(primKeyClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "prim-key-class" element
+     */
+    public void xsetPrimKeyClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType primKeyClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(PRIMKEYCLASS$20, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(PRIMKEYCLASS$20);
+            }
+            target.set(primKeyClass);
+        }
+    }
+    
+    /**
+     * Gets the "reentrant" element
+     */
+    public boolean getReentrant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(REENTRANT$22, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REENTRANT$22, 0);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "reentrant" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TrueFalseType xgetReentrant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(REENTRANT$22, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "reentrant" element
+     */
+    public void setReentrant(boolean reentrant)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REENTRANT$22, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REENTRANT$22);
+            }
+            target.setBooleanValue(reentrant);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "reentrant" element
+     */
+    public void xsetReentrant(com.sun.java.xml.ns.j2Ee.TrueFalseType reentrant)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(REENTRANT$22, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().add_element_user(REENTRANT$22);
+            }
+            target.set(reentrant);
+        }
+    }
+    
+    /**
+     * Gets the "cmp-version" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpVersionType.Enum getCmpVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CMPVERSION$24, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.CmpVersionType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "cmp-version" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpVersionType xgetCmpVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmpVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmpVersionType)get_store().find_element_user(CMPVERSION$24, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "cmp-version" element
+     */
+    public boolean isSetCmpVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CMPVERSION$24) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "cmp-version" element
+     */
+    public void setCmpVersion(com.sun.java.xml.ns.j2Ee.CmpVersionType.Enum cmpVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CMPVERSION$24, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CMPVERSION$24);
+            }
+            target.setEnumValue(cmpVersion);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "cmp-version" element
+     */
+    public void xsetCmpVersion(com.sun.java.xml.ns.j2Ee.CmpVersionType cmpVersion)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmpVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmpVersionType)get_store().find_element_user(CMPVERSION$24, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.CmpVersionType)get_store().add_element_user(CMPVERSION$24);
+            }
+            target.set(cmpVersion);
+        }
+    }
+    
+    /**
+     * Unsets the "cmp-version" element
+     */
+    public void unsetCmpVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CMPVERSION$24, 0);
+        }
+    }
+    
+    /**
+     * Gets the "abstract-schema-name" element
+     */
+    public java.lang.String getAbstractSchemaName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ABSTRACTSCHEMANAME$26, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "abstract-schema-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaIdentifierType xgetAbstractSchemaName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaIdentifierType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().find_element_user(ABSTRACTSCHEMANAME$26, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "abstract-schema-name" element
+     */
+    public boolean isSetAbstractSchemaName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ABSTRACTSCHEMANAME$26) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "abstract-schema-name" element
+     */
+    public void setAbstractSchemaName(java.lang.String abstractSchemaName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ABSTRACTSCHEMANAME$26, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ABSTRACTSCHEMANAME$26);
+            }
+            target.setStringValue(abstractSchemaName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "abstract-schema-name" element
+     */
+    public void xsetAbstractSchemaName(com.sun.java.xml.ns.j2Ee.JavaIdentifierType abstractSchemaName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaIdentifierType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().find_element_user(ABSTRACTSCHEMANAME$26, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JavaIdentifierType)get_store().add_element_user(ABSTRACTSCHEMANAME$26);
+            }
+            target.set(abstractSchemaName);
+        }
+    }
+    
+    /**
+     * Unsets the "abstract-schema-name" element
+     */
+    public void unsetAbstractSchemaName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ABSTRACTSCHEMANAME$26, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "cmp-field" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpFieldType[] getCmpFieldArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CMPFIELD$28, targetList);
+            com.sun.java.xml.ns.j2Ee.CmpFieldType[] result = new com.sun.java.xml.ns.j2Ee.CmpFieldType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "cmp-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpFieldType getCmpFieldArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmpFieldType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmpFieldType)get_store().find_element_user(CMPFIELD$28, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "cmp-field" element
+     */
+    public int sizeOfCmpFieldArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CMPFIELD$28);
+        }
+    }
+    
+    /**
+     * Sets array of all "cmp-field" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCmpFieldArray(com.sun.java.xml.ns.j2Ee.CmpFieldType[] cmpFieldArray)
+    {
+        check_orphaned();
+        arraySetterHelper(cmpFieldArray, CMPFIELD$28);
+    }
+    
+    /**
+     * Sets ith "cmp-field" element
+     */
+    public void setCmpFieldArray(int i, com.sun.java.xml.ns.j2Ee.CmpFieldType cmpField)
+    {
+        generatedSetterHelperImpl(cmpField, CMPFIELD$28, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "cmp-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpFieldType insertNewCmpField(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmpFieldType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmpFieldType)get_store().insert_element_user(CMPFIELD$28, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "cmp-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.CmpFieldType addNewCmpField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.CmpFieldType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.CmpFieldType)get_store().add_element_user(CMPFIELD$28);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "cmp-field" element
+     */
+    public void removeCmpField(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CMPFIELD$28, i);
+        }
+    }
+    
+    /**
+     * Gets the "primkey-field" element
+     */
+    public java.lang.String getPrimkeyField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRIMKEYFIELD$30, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "primkey-field" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetPrimkeyField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(PRIMKEYFIELD$30, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "primkey-field" element
+     */
+    public boolean isSetPrimkeyField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PRIMKEYFIELD$30) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "primkey-field" element
+     */
+    public void setPrimkeyField(java.lang.String primkeyField)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRIMKEYFIELD$30, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRIMKEYFIELD$30);
+            }
+            target.setStringValue(primkeyField);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "primkey-field" element
+     */
+    public void xsetPrimkeyField(com.sun.java.xml.ns.j2Ee.String primkeyField)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(PRIMKEYFIELD$30, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(PRIMKEYFIELD$30);
+            }
+            target.set(primkeyField);
+        }
+    }
+    
+    /**
+     * Unsets the "primkey-field" element
+     */
+    public void unsetPrimkeyField()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PRIMKEYFIELD$30, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVENTRY$32, targetList);
+            com.sun.java.xml.ns.j2Ee.EnvEntryType[] result = new com.sun.java.xml.ns.j2Ee.EnvEntryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().find_element_user(ENVENTRY$32, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    public int sizeOfEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRY$32);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-entry" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envEntryArray, ENVENTRY$32);
+    }
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    public void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry)
+    {
+        generatedSetterHelperImpl(envEntry, ENVENTRY$32, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().insert_element_user(ENVENTRY$32, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().add_element_user(ENVENTRY$32);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    public void removeEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRY$32, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBREF$34, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().find_element_user(EJBREF$34, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    public int sizeOfEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBREF$34);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbRefArray, EJBREF$34);
+    }
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    public void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef)
+    {
+        generatedSetterHelperImpl(ejbRef, EJBREF$34, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().insert_element_user(EJBREF$34, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().add_element_user(EJBREF$34);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    public void removeEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBREF$34, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] getEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBLOCALREF$36, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbLocalRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType getEjbLocalRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().find_element_user(EJBLOCALREF$36, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-local-ref" element
+     */
+    public int sizeOfEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBLOCALREF$36);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-local-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] ejbLocalRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbLocalRefArray, EJBLOCALREF$36);
+    }
+    
+    /**
+     * Sets ith "ejb-local-ref" element
+     */
+    public void setEjbLocalRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbLocalRefType ejbLocalRef)
+    {
+        generatedSetterHelperImpl(ejbLocalRef, EJBLOCALREF$36, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType insertNewEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().insert_element_user(EJBLOCALREF$36, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType addNewEjbLocalRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().add_element_user(EJBLOCALREF$36);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-local-ref" element
+     */
+    public void removeEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBLOCALREF$36, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "service-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType[] getServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SERVICEREF$38, targetList);
+            com.sun.java.xml.ns.j2Ee.ServiceRefType[] result = new com.sun.java.xml.ns.j2Ee.ServiceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType getServiceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().find_element_user(SERVICEREF$38, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "service-ref" element
+     */
+    public int sizeOfServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVICEREF$38);
+        }
+    }
+    
+    /**
+     * Sets array of all "service-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setServiceRefArray(com.sun.java.xml.ns.j2Ee.ServiceRefType[] serviceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(serviceRefArray, SERVICEREF$38);
+    }
+    
+    /**
+     * Sets ith "service-ref" element
+     */
+    public void setServiceRefArray(int i, com.sun.java.xml.ns.j2Ee.ServiceRefType serviceRef)
+    {
+        generatedSetterHelperImpl(serviceRef, SERVICEREF$38, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType insertNewServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().insert_element_user(SERVICEREF$38, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType addNewServiceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().add_element_user(SERVICEREF$38);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "service-ref" element
+     */
+    public void removeServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVICEREF$38, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-role-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] getSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLEREF$40, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType getSecurityRoleRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().find_element_user(SECURITYROLEREF$40, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role-ref" element
+     */
+    public int sizeOfSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLEREF$40);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleRefArray(com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] securityRoleRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleRefArray, SECURITYROLEREF$40);
+    }
+    
+    /**
+     * Sets ith "security-role-ref" element
+     */
+    public void setSecurityRoleRefArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleRefType securityRoleRef)
+    {
+        generatedSetterHelperImpl(securityRoleRef, SECURITYROLEREF$40, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType insertNewSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().insert_element_user(SECURITYROLEREF$40, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType addNewSecurityRoleRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().add_element_user(SECURITYROLEREF$40);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role-ref" element
+     */
+    public void removeSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLEREF$40, i);
+        }
+    }
+    
+    /**
+     * Gets the "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType getSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().find_element_user(SECURITYIDENTITY$42, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "security-identity" element
+     */
+    public boolean isSetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYIDENTITY$42) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "security-identity" element
+     */
+    public void setSecurityIdentity(com.sun.java.xml.ns.j2Ee.SecurityIdentityType securityIdentity)
+    {
+        generatedSetterHelperImpl(securityIdentity, SECURITYIDENTITY$42, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType addNewSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().add_element_user(SECURITYIDENTITY$42);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "security-identity" element
+     */
+    public void unsetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYIDENTITY$42, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEREF$44, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().find_element_user(RESOURCEREF$44, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    public int sizeOfResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEREF$44);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceRefArray, RESOURCEREF$44);
+    }
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    public void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef)
+    {
+        generatedSetterHelperImpl(resourceRef, RESOURCEREF$44, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().insert_element_user(RESOURCEREF$44, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().add_element_user(RESOURCEREF$44);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    public void removeResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEREF$44, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEENVREF$46, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().find_element_user(RESOURCEENVREF$46, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    public int sizeOfResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEENVREF$46);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceEnvRefArray, RESOURCEENVREF$46);
+    }
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    public void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef)
+    {
+        generatedSetterHelperImpl(resourceEnvRef, RESOURCEENVREF$46, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().insert_element_user(RESOURCEENVREF$46, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().add_element_user(RESOURCEENVREF$46);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    public void removeResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEENVREF$46, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATIONREF$48, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().find_element_user(MESSAGEDESTINATIONREF$48, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    public int sizeOfMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONREF$48);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationRefArray, MESSAGEDESTINATIONREF$48);
+    }
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    public void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef)
+    {
+        generatedSetterHelperImpl(messageDestinationRef, MESSAGEDESTINATIONREF$48, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().insert_element_user(MESSAGEDESTINATIONREF$48, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().add_element_user(MESSAGEDESTINATIONREF$48);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    public void removeMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONREF$48, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "query" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryType[] getQueryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(QUERY$50, targetList);
+            com.sun.java.xml.ns.j2Ee.QueryType[] result = new com.sun.java.xml.ns.j2Ee.QueryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "query" element
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryType getQueryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.QueryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.QueryType)get_store().find_element_user(QUERY$50, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "query" element
+     */
+    public int sizeOfQueryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(QUERY$50);
+        }
+    }
+    
+    /**
+     * Sets array of all "query" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setQueryArray(com.sun.java.xml.ns.j2Ee.QueryType[] queryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(queryArray, QUERY$50);
+    }
+    
+    /**
+     * Sets ith "query" element
+     */
+    public void setQueryArray(int i, com.sun.java.xml.ns.j2Ee.QueryType query)
+    {
+        generatedSetterHelperImpl(query, QUERY$50, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "query" element
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryType insertNewQuery(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.QueryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.QueryType)get_store().insert_element_user(QUERY$50, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "query" element
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryType addNewQuery()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.QueryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.QueryType)get_store().add_element_user(QUERY$50);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "query" element
+     */
+    public void removeQuery(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(QUERY$50, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$52, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$52, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$52);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$52);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$52, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$52, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$52);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$52, i);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  env-entry-type-valuesType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML env-entry-type-valuesType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType.
+ */
+public class EnvEntryTypeValuesTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnvEntryTypeValuesTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected EnvEntryTypeValuesTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
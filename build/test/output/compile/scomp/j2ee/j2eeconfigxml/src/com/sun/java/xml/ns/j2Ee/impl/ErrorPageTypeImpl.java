@@ -0,0 +1,304 @@
+/*
+ * XML Type:  error-pageType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ErrorPageType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML error-pageType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ErrorPageTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ErrorPageType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ErrorPageTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ERRORCODE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "error-code");
+    private static final javax.xml.namespace.QName EXCEPTIONTYPE$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "exception-type");
+    private static final javax.xml.namespace.QName LOCATION$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "location");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -91112968:
+                if (name.equals(EXCEPTIONTYPE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1589510802:
+                if (name.equals(ERRORCODE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1901043637:
+                if (name.equals(LOCATION$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "error-code" element
+     */
+    public java.math.BigInteger getErrorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORCODE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "error-code" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ErrorCodeType xgetErrorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ErrorCodeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ErrorCodeType)get_store().find_element_user(ERRORCODE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "error-code" element
+     */
+    public boolean isSetErrorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ERRORCODE$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "error-code" element
+     */
+    public void setErrorCode(java.math.BigInteger errorCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ERRORCODE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ERRORCODE$0);
+            }
+            target.setBigIntegerValue(errorCode);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "error-code" element
+     */
+    public void xsetErrorCode(com.sun.java.xml.ns.j2Ee.ErrorCodeType errorCode)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ErrorCodeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ErrorCodeType)get_store().find_element_user(ERRORCODE$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ErrorCodeType)get_store().add_element_user(ERRORCODE$0);
+            }
+            target.set(errorCode);
+        }
+    }
+    
+    /**
+     * Unsets the "error-code" element
+     */
+    public void unsetErrorCode()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ERRORCODE$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "exception-type" element
+     */
+    public java.lang.String getExceptionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXCEPTIONTYPE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "exception-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetExceptionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(EXCEPTIONTYPE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "exception-type" element
+     */
+    public boolean isSetExceptionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXCEPTIONTYPE$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "exception-type" element
+     */
+    public void setExceptionType(java.lang.String exceptionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXCEPTIONTYPE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXCEPTIONTYPE$2);
+            }
+            target.setStringValue(exceptionType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "exception-type" element
+     */
+    public void xsetExceptionType(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType exceptionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(EXCEPTIONTYPE$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(EXCEPTIONTYPE$2);
+            }
+            target.set(exceptionType);
+        }
+    }
+    
+    /**
+     * Unsets the "exception-type" element
+     */
+    public void unsetExceptionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXCEPTIONTYPE$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "location" element
+     */
+    public java.lang.String getLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATION$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "location" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(LOCATION$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "location" element
+     */
+    public void setLocation(java.lang.String location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCATION$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCATION$4);
+            }
+            target.setStringValue(location);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "location" element
+     */
+    public void xsetLocation(com.sun.java.xml.ns.j2Ee.PathType location)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(LOCATION$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(LOCATION$4);
+            }
+            target.set(location);
+        }
+    }
+}
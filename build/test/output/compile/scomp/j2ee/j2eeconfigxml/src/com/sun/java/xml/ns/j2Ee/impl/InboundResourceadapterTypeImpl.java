@@ -0,0 +1,104 @@
+/*
+ * XML Type:  inbound-resourceadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.InboundResourceadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML inbound-resourceadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class InboundResourceadapterTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.InboundResourceadapterType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InboundResourceadapterTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MESSAGEADAPTER$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "messageadapter");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1958093464:
+                if (name.equals(MESSAGEADAPTER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "messageadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageadapterType getMessageadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageadapterType)get_store().find_element_user(MESSAGEADAPTER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "messageadapter" element
+     */
+    public boolean isSetMessageadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEADAPTER$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "messageadapter" element
+     */
+    public void setMessageadapter(com.sun.java.xml.ns.j2Ee.MessageadapterType messageadapter)
+    {
+        generatedSetterHelperImpl(messageadapter, MESSAGEADAPTER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "messageadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageadapterType addNewMessageadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageadapterType)get_store().add_element_user(MESSAGEADAPTER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "messageadapter" element
+     */
+    public void unsetMessageadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEADAPTER$0, 0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  java-typeType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.JavaTypeType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML java-typeType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.JavaTypeType.
+ */
+public class JavaTypeTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.sun.java.xml.ns.j2Ee.JavaTypeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public JavaTypeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected JavaTypeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * XML Type:  jsp-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.JspConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML jsp-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class JspConfigTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.JspConfigType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public JspConfigTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TAGLIB$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "taglib");
+    private static final javax.xml.namespace.QName JSPPROPERTYGROUP$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "jsp-property-group");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -881228629:
+                if (name.equals(TAGLIB$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1787268813:
+                if (name.equals(JSPPROPERTYGROUP$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "taglib" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.TaglibType[] getTaglibArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TAGLIB$0, targetList);
+            com.sun.java.xml.ns.j2Ee.TaglibType[] result = new com.sun.java.xml.ns.j2Ee.TaglibType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "taglib" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TaglibType getTaglibArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TaglibType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TaglibType)get_store().find_element_user(TAGLIB$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "taglib" element
+     */
+    public int sizeOfTaglibArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TAGLIB$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "taglib" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setTaglibArray(com.sun.java.xml.ns.j2Ee.TaglibType[] taglibArray)
+    {
+        check_orphaned();
+        arraySetterHelper(taglibArray, TAGLIB$0);
+    }
+    
+    /**
+     * Sets ith "taglib" element
+     */
+    public void setTaglibArray(int i, com.sun.java.xml.ns.j2Ee.TaglibType taglib)
+    {
+        generatedSetterHelperImpl(taglib, TAGLIB$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "taglib" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TaglibType insertNewTaglib(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TaglibType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TaglibType)get_store().insert_element_user(TAGLIB$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "taglib" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TaglibType addNewTaglib()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TaglibType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TaglibType)get_store().add_element_user(TAGLIB$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "taglib" element
+     */
+    public void removeTaglib(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TAGLIB$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "jsp-property-group" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.JspPropertyGroupType[] getJspPropertyGroupArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(JSPPROPERTYGROUP$2, targetList);
+            com.sun.java.xml.ns.j2Ee.JspPropertyGroupType[] result = new com.sun.java.xml.ns.j2Ee.JspPropertyGroupType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "jsp-property-group" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspPropertyGroupType getJspPropertyGroupArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspPropertyGroupType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType)get_store().find_element_user(JSPPROPERTYGROUP$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "jsp-property-group" element
+     */
+    public int sizeOfJspPropertyGroupArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(JSPPROPERTYGROUP$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "jsp-property-group" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setJspPropertyGroupArray(com.sun.java.xml.ns.j2Ee.JspPropertyGroupType[] jspPropertyGroupArray)
+    {
+        check_orphaned();
+        arraySetterHelper(jspPropertyGroupArray, JSPPROPERTYGROUP$2);
+    }
+    
+    /**
+     * Sets ith "jsp-property-group" element
+     */
+    public void setJspPropertyGroupArray(int i, com.sun.java.xml.ns.j2Ee.JspPropertyGroupType jspPropertyGroup)
+    {
+        generatedSetterHelperImpl(jspPropertyGroup, JSPPROPERTYGROUP$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "jsp-property-group" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspPropertyGroupType insertNewJspPropertyGroup(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspPropertyGroupType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType)get_store().insert_element_user(JSPPROPERTYGROUP$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "jsp-property-group" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspPropertyGroupType addNewJspPropertyGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspPropertyGroupType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspPropertyGroupType)get_store().add_element_user(JSPPROPERTYGROUP$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "jsp-property-group" element
+     */
+    public void removeJspPropertyGroup(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(JSPPROPERTYGROUP$2, i);
+        }
+    }
+}
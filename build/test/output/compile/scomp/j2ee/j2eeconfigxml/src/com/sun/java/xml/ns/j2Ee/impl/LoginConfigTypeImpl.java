@@ -0,0 +1,300 @@
+/*
+ * XML Type:  login-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.LoginConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML login-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class LoginConfigTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.LoginConfigType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LoginConfigTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName AUTHMETHOD$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "auth-method");
+    private static final javax.xml.namespace.QName REALMNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "realm-name");
+    private static final javax.xml.namespace.QName FORMLOGINCONFIG$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "form-login-config");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(3);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1806926705:
+                if (name.equals(FORMLOGINCONFIG$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -1311440119:
+                if (name.equals(REALMNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 2129866918:
+                if (name.equals(AUTHMETHOD$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "auth-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthMethodType.Enum getAuthMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AUTHMETHOD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.AuthMethodType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "auth-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthMethodType xgetAuthMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthMethodType)get_store().find_element_user(AUTHMETHOD$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "auth-method" element
+     */
+    public boolean isSetAuthMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(AUTHMETHOD$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "auth-method" element
+     */
+    public void setAuthMethod(com.sun.java.xml.ns.j2Ee.AuthMethodType.Enum authMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(AUTHMETHOD$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(AUTHMETHOD$0);
+            }
+            target.setEnumValue(authMethod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "auth-method" element
+     */
+    public void xsetAuthMethod(com.sun.java.xml.ns.j2Ee.AuthMethodType authMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthMethodType)get_store().find_element_user(AUTHMETHOD$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.AuthMethodType)get_store().add_element_user(AUTHMETHOD$0);
+            }
+            target.set(authMethod);
+        }
+    }
+    
+    /**
+     * Unsets the "auth-method" element
+     */
+    public void unsetAuthMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(AUTHMETHOD$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "realm-name" element
+     */
+    public java.lang.String getRealmName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REALMNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "realm-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetRealmName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(REALMNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "realm-name" element
+     */
+    public boolean isSetRealmName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(REALMNAME$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "realm-name" element
+     */
+    public void setRealmName(java.lang.String realmName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REALMNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REALMNAME$2);
+            }
+            target.setStringValue(realmName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "realm-name" element
+     */
+    public void xsetRealmName(com.sun.java.xml.ns.j2Ee.String realmName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(REALMNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(REALMNAME$2);
+            }
+            target.set(realmName);
+        }
+    }
+    
+    /**
+     * Unsets the "realm-name" element
+     */
+    public void unsetRealmName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(REALMNAME$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "form-login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FormLoginConfigType getFormLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FormLoginConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FormLoginConfigType)get_store().find_element_user(FORMLOGINCONFIG$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "form-login-config" element
+     */
+    public boolean isSetFormLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FORMLOGINCONFIG$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "form-login-config" element
+     */
+    public void setFormLoginConfig(com.sun.java.xml.ns.j2Ee.FormLoginConfigType formLoginConfig)
+    {
+        generatedSetterHelperImpl(formLoginConfig, FORMLOGINCONFIG$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "form-login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FormLoginConfigType addNewFormLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FormLoginConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FormLoginConfigType)get_store().add_element_user(FORMLOGINCONFIG$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "form-login-config" element
+     */
+    public void unsetFormLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FORMLOGINCONFIG$4, 0);
+        }
+    }
+}
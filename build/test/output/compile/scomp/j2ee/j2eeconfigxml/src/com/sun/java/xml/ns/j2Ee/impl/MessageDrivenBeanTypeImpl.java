@@ -0,0 +1,1772 @@
+/*
+ * XML Type:  message-driven-beanType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML message-driven-beanType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MessageDrivenBeanTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MessageDrivenBeanType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MessageDrivenBeanTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName EJBNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-name");
+    private static final javax.xml.namespace.QName EJBCLASS$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-class");
+    private static final javax.xml.namespace.QName MESSAGINGTYPE$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "messaging-type");
+    private static final javax.xml.namespace.QName TRANSACTIONTYPE$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "transaction-type");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONTYPE$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-type");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONLINK$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-link");
+    private static final javax.xml.namespace.QName ACTIVATIONCONFIG$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activation-config");
+    private static final javax.xml.namespace.QName ENVENTRY$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry");
+    private static final javax.xml.namespace.QName EJBREF$22 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref");
+    private static final javax.xml.namespace.QName EJBLOCALREF$24 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-local-ref");
+    private static final javax.xml.namespace.QName SERVICEREF$26 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "service-ref");
+    private static final javax.xml.namespace.QName SECURITYIDENTITY$28 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-identity");
+    private static final javax.xml.namespace.QName RESOURCEREF$30 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-ref");
+    private static final javax.xml.namespace.QName RESOURCEENVREF$32 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-env-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREF$34 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$36 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(19);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1987074901:
+                if (name.equals(SECURITYIDENTITY$28))
+                    return ORDINAL$BASE + 14;
+                break;
+            case -1929539205:
+                if (name.equals(SERVICEREF$26))
+                    return ORDINAL$BASE + 13;
+                break;
+            case -1928083973:
+                if (name.equals(EJBNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1815861287:
+                if (name.equals(ACTIVATIONCONFIG$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case -1724760285:
+                if (name.equals(EJBREF$22))
+                    return ORDINAL$BASE + 11;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$36))
+                    return ORDINAL$BASE + 18;
+                break;
+            case -697466990:
+                if (name.equals(ENVENTRY$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case -591184797:
+                if (name.equals(MESSAGINGTYPE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -385533356:
+                if (name.equals(RESOURCEREF$30))
+                    return ORDINAL$BASE + 15;
+                break;
+            case -238175807:
+                if (name.equals(EJBLOCALREF$24))
+                    return ORDINAL$BASE + 12;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 349096968:
+                if (name.equals(EJBCLASS$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 462878921:
+                if (name.equals(TRANSACTIONTYPE$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 761469791:
+                if (name.equals(MESSAGEDESTINATIONLINK$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 761723551:
+                if (name.equals(MESSAGEDESTINATIONTYPE$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1964231822:
+                if (name.equals(MESSAGEDESTINATIONREF$34))
+                    return ORDINAL$BASE + 17;
+                break;
+            case 1964650740:
+                if (name.equals(RESOURCEENVREF$32))
+                    return ORDINAL$BASE + 16;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "description" element
+     */
+    public boolean isSetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "description" element
+     */
+    public void unsetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "display-name" element
+     */
+    public boolean isSetDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "display-name" element
+     */
+    public void setDisplayName(com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "display-name" element
+     */
+    public void unsetDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "icon" element
+     */
+    public boolean isSetIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "icon" element
+     */
+    public void setIcon(com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "icon" element
+     */
+    public void unsetIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-name" element
+     */
+    public java.lang.String getEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbNameType xgetEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-name" element
+     */
+    public void setEjbName(java.lang.String ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBNAME$6);
+            }
+            target.setStringValue(ejbName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-name" element
+     */
+    public void xsetEjbName(com.sun.java.xml.ns.j2Ee.EjbNameType ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().add_element_user(EJBNAME$6);
+            }
+            target.set(ejbName);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-class" element
+     */
+    public java.lang.String getEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbClassType xgetEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-class" element
+     */
+    public void setEjbClass(java.lang.String ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBCLASS$8);
+            }
+            target.setStringValue(ejbClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-class" element
+     */
+    public void xsetEjbClass(com.sun.java.xml.ns.j2Ee.EjbClassType ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().add_element_user(EJBCLASS$8);
+            }
+            target.set(ejbClass);
+        }
+    }
+    
+    /**
+     * Gets the "messaging-type" element
+     */
+    public java.lang.String getMessagingType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGINGTYPE$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "messaging-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetMessagingType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MESSAGINGTYPE$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "messaging-type" element
+     */
+    public boolean isSetMessagingType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGINGTYPE$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "messaging-type" element
+     */
+    public void setMessagingType(java.lang.String messagingType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGINGTYPE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGINGTYPE$10);
+            }
+            target.setStringValue(messagingType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "messaging-type" element
+     */
+    public void xsetMessagingType(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType messagingType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MESSAGINGTYPE$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(MESSAGINGTYPE$10);
+            }
+            target.set(messagingType);
+        }
+    }
+    
+    /**
+     * Unsets the "messaging-type" element
+     */
+    public void unsetMessagingType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGINGTYPE$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "transaction-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum getTransactionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONTYPE$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "transaction-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionTypeType xgetTransactionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().find_element_user(TRANSACTIONTYPE$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "transaction-type" element
+     */
+    public void setTransactionType(com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum transactionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONTYPE$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TRANSACTIONTYPE$12);
+            }
+            target.setEnumValue(transactionType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "transaction-type" element
+     */
+    public void xsetTransactionType(com.sun.java.xml.ns.j2Ee.TransactionTypeType transactionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().find_element_user(TRANSACTIONTYPE$12, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().add_element_user(TRANSACTIONTYPE$12);
+            }
+            target.set(transactionType);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-type" element
+     */
+    public java.lang.String getMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONTYPE$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType xgetMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().find_element_user(MESSAGEDESTINATIONTYPE$14, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "message-destination-type" element
+     */
+    public boolean isSetMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONTYPE$14) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-type" element
+     */
+    public void setMessageDestinationType(java.lang.String messageDestinationType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONTYPE$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONTYPE$14);
+            }
+            target.setStringValue(messageDestinationType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-type" element
+     */
+    public void xsetMessageDestinationType(com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType messageDestinationType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().find_element_user(MESSAGEDESTINATIONTYPE$14, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().add_element_user(MESSAGEDESTINATIONTYPE$14);
+            }
+            target.set(messageDestinationType);
+        }
+    }
+    
+    /**
+     * Unsets the "message-destination-type" element
+     */
+    public void unsetMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONTYPE$14, 0);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-link" element
+     */
+    public java.lang.String getMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONLINK$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-link" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType xgetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().find_element_user(MESSAGEDESTINATIONLINK$16, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "message-destination-link" element
+     */
+    public boolean isSetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONLINK$16) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-link" element
+     */
+    public void setMessageDestinationLink(java.lang.String messageDestinationLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONLINK$16, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONLINK$16);
+            }
+            target.setStringValue(messageDestinationLink);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-link" element
+     */
+    public void xsetMessageDestinationLink(com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType messageDestinationLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().find_element_user(MESSAGEDESTINATIONLINK$16, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().add_element_user(MESSAGEDESTINATIONLINK$16);
+            }
+            target.set(messageDestinationLink);
+        }
+    }
+    
+    /**
+     * Unsets the "message-destination-link" element
+     */
+    public void unsetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONLINK$16, 0);
+        }
+    }
+    
+    /**
+     * Gets the "activation-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigType getActivationConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationConfigType)get_store().find_element_user(ACTIVATIONCONFIG$18, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "activation-config" element
+     */
+    public boolean isSetActivationConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ACTIVATIONCONFIG$18) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "activation-config" element
+     */
+    public void setActivationConfig(com.sun.java.xml.ns.j2Ee.ActivationConfigType activationConfig)
+    {
+        generatedSetterHelperImpl(activationConfig, ACTIVATIONCONFIG$18, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "activation-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationConfigType addNewActivationConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationConfigType)get_store().add_element_user(ACTIVATIONCONFIG$18);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "activation-config" element
+     */
+    public void unsetActivationConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ACTIVATIONCONFIG$18, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVENTRY$20, targetList);
+            com.sun.java.xml.ns.j2Ee.EnvEntryType[] result = new com.sun.java.xml.ns.j2Ee.EnvEntryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().find_element_user(ENVENTRY$20, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    public int sizeOfEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRY$20);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-entry" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envEntryArray, ENVENTRY$20);
+    }
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    public void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry)
+    {
+        generatedSetterHelperImpl(envEntry, ENVENTRY$20, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().insert_element_user(ENVENTRY$20, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().add_element_user(ENVENTRY$20);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    public void removeEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRY$20, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBREF$22, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().find_element_user(EJBREF$22, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    public int sizeOfEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBREF$22);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbRefArray, EJBREF$22);
+    }
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    public void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef)
+    {
+        generatedSetterHelperImpl(ejbRef, EJBREF$22, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().insert_element_user(EJBREF$22, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().add_element_user(EJBREF$22);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    public void removeEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBREF$22, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] getEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBLOCALREF$24, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbLocalRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType getEjbLocalRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().find_element_user(EJBLOCALREF$24, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-local-ref" element
+     */
+    public int sizeOfEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBLOCALREF$24);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-local-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] ejbLocalRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbLocalRefArray, EJBLOCALREF$24);
+    }
+    
+    /**
+     * Sets ith "ejb-local-ref" element
+     */
+    public void setEjbLocalRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbLocalRefType ejbLocalRef)
+    {
+        generatedSetterHelperImpl(ejbLocalRef, EJBLOCALREF$24, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType insertNewEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().insert_element_user(EJBLOCALREF$24, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType addNewEjbLocalRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().add_element_user(EJBLOCALREF$24);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-local-ref" element
+     */
+    public void removeEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBLOCALREF$24, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "service-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType[] getServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SERVICEREF$26, targetList);
+            com.sun.java.xml.ns.j2Ee.ServiceRefType[] result = new com.sun.java.xml.ns.j2Ee.ServiceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType getServiceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().find_element_user(SERVICEREF$26, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "service-ref" element
+     */
+    public int sizeOfServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVICEREF$26);
+        }
+    }
+    
+    /**
+     * Sets array of all "service-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setServiceRefArray(com.sun.java.xml.ns.j2Ee.ServiceRefType[] serviceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(serviceRefArray, SERVICEREF$26);
+    }
+    
+    /**
+     * Sets ith "service-ref" element
+     */
+    public void setServiceRefArray(int i, com.sun.java.xml.ns.j2Ee.ServiceRefType serviceRef)
+    {
+        generatedSetterHelperImpl(serviceRef, SERVICEREF$26, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType insertNewServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().insert_element_user(SERVICEREF$26, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType addNewServiceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().add_element_user(SERVICEREF$26);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "service-ref" element
+     */
+    public void removeServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVICEREF$26, i);
+        }
+    }
+    
+    /**
+     * Gets the "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType getSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().find_element_user(SECURITYIDENTITY$28, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "security-identity" element
+     */
+    public boolean isSetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYIDENTITY$28) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "security-identity" element
+     */
+    public void setSecurityIdentity(com.sun.java.xml.ns.j2Ee.SecurityIdentityType securityIdentity)
+    {
+        generatedSetterHelperImpl(securityIdentity, SECURITYIDENTITY$28, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType addNewSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().add_element_user(SECURITYIDENTITY$28);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "security-identity" element
+     */
+    public void unsetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYIDENTITY$28, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEREF$30, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().find_element_user(RESOURCEREF$30, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    public int sizeOfResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEREF$30);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceRefArray, RESOURCEREF$30);
+    }
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    public void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef)
+    {
+        generatedSetterHelperImpl(resourceRef, RESOURCEREF$30, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().insert_element_user(RESOURCEREF$30, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().add_element_user(RESOURCEREF$30);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    public void removeResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEREF$30, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEENVREF$32, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().find_element_user(RESOURCEENVREF$32, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    public int sizeOfResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEENVREF$32);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceEnvRefArray, RESOURCEENVREF$32);
+    }
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    public void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef)
+    {
+        generatedSetterHelperImpl(resourceEnvRef, RESOURCEENVREF$32, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().insert_element_user(RESOURCEENVREF$32, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().add_element_user(RESOURCEENVREF$32);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    public void removeResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEENVREF$32, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATIONREF$34, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().find_element_user(MESSAGEDESTINATIONREF$34, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    public int sizeOfMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONREF$34);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationRefArray, MESSAGEDESTINATIONREF$34);
+    }
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    public void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef)
+    {
+        generatedSetterHelperImpl(messageDestinationRef, MESSAGEDESTINATIONREF$34, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().insert_element_user(MESSAGEDESTINATIONREF$34, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().add_element_user(MESSAGEDESTINATIONREF$34);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    public void removeMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONREF$34, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$36, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$36, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$36);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$36);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$36, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$36, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$36);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$36, i);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  messageadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MessageadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML messageadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MessageadapterTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MessageadapterType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MessageadapterTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MESSAGELISTENER$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "messagelistener");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 2080820667:
+                if (name.equals(MESSAGELISTENER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "messagelistener" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessagelistenerType[] getMessagelistenerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGELISTENER$0, targetList);
+            com.sun.java.xml.ns.j2Ee.MessagelistenerType[] result = new com.sun.java.xml.ns.j2Ee.MessagelistenerType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "messagelistener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessagelistenerType getMessagelistenerArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessagelistenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessagelistenerType)get_store().find_element_user(MESSAGELISTENER$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "messagelistener" element
+     */
+    public int sizeOfMessagelistenerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGELISTENER$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "messagelistener" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessagelistenerArray(com.sun.java.xml.ns.j2Ee.MessagelistenerType[] messagelistenerArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messagelistenerArray, MESSAGELISTENER$0);
+    }
+    
+    /**
+     * Sets ith "messagelistener" element
+     */
+    public void setMessagelistenerArray(int i, com.sun.java.xml.ns.j2Ee.MessagelistenerType messagelistener)
+    {
+        generatedSetterHelperImpl(messagelistener, MESSAGELISTENER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "messagelistener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessagelistenerType insertNewMessagelistener(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessagelistenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessagelistenerType)get_store().insert_element_user(MESSAGELISTENER$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "messagelistener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessagelistenerType addNewMessagelistener()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessagelistenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessagelistenerType)get_store().add_element_user(MESSAGELISTENER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "messagelistener" element
+     */
+    public void removeMessagelistener(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGELISTENER$0, i);
+        }
+    }
+}
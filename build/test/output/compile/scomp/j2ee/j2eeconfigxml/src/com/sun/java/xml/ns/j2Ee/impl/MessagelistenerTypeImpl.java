@@ -0,0 +1,154 @@
+/*
+ * XML Type:  messagelistenerType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MessagelistenerType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML messagelistenerType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MessagelistenerTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MessagelistenerType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MessagelistenerTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName MESSAGELISTENERTYPE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "messagelistener-type");
+    private static final javax.xml.namespace.QName ACTIVATIONSPEC$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "activationspec");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1343357487:
+                if (name.equals(ACTIVATIONSPEC$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 721174540:
+                if (name.equals(MESSAGELISTENERTYPE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "messagelistener-type" element
+     */
+    public java.lang.String getMessagelistenerType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGELISTENERTYPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "messagelistener-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetMessagelistenerType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MESSAGELISTENERTYPE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "messagelistener-type" element
+     */
+    public void setMessagelistenerType(java.lang.String messagelistenerType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGELISTENERTYPE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGELISTENERTYPE$0);
+            }
+            target.setStringValue(messagelistenerType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "messagelistener-type" element
+     */
+    public void xsetMessagelistenerType(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType messagelistenerType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(MESSAGELISTENERTYPE$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(MESSAGELISTENERTYPE$0);
+            }
+            target.set(messagelistenerType);
+        }
+    }
+    
+    /**
+     * Gets the "activationspec" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationspecType getActivationspec()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationspecType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationspecType)get_store().find_element_user(ACTIVATIONSPEC$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "activationspec" element
+     */
+    public void setActivationspec(com.sun.java.xml.ns.j2Ee.ActivationspecType activationspec)
+    {
+        generatedSetterHelperImpl(activationspec, ACTIVATIONSPEC$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "activationspec" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ActivationspecType addNewActivationspec()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ActivationspecType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ActivationspecType)get_store().add_element_user(ACTIVATIONSPEC$2);
+            return target;
+        }
+    }
+}
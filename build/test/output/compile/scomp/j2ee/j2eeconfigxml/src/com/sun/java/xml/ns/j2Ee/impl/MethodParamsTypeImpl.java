@@ -0,0 +1,249 @@
+/*
+ * XML Type:  method-paramsType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MethodParamsType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML method-paramsType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MethodParamsTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MethodParamsType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MethodParamsTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName METHODPARAM$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method-param");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -106557279:
+                if (name.equals(METHODPARAM$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "method-param" elements
+     */
+    public java.lang.String[] getMethodParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(METHODPARAM$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "method-param" element
+     */
+    public java.lang.String getMethodParamArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODPARAM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "method-param" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaTypeType[] xgetMethodParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(METHODPARAM$0, targetList);
+            com.sun.java.xml.ns.j2Ee.JavaTypeType[] result = new com.sun.java.xml.ns.j2Ee.JavaTypeType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "method-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaTypeType xgetMethodParamArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaTypeType)get_store().find_element_user(METHODPARAM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "method-param" element
+     */
+    public int sizeOfMethodParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(METHODPARAM$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "method-param" element
+     */
+    public void setMethodParamArray(java.lang.String[] methodParamArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(methodParamArray, METHODPARAM$0);
+        }
+    }
+    
+    /**
+     * Sets ith "method-param" element
+     */
+    public void setMethodParamArray(int i, java.lang.String methodParam)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODPARAM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(methodParam);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "method-param" element
+     */
+    public void xsetMethodParamArray(com.sun.java.xml.ns.j2Ee.JavaTypeType[]methodParamArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(methodParamArray, METHODPARAM$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "method-param" element
+     */
+    public void xsetMethodParamArray(int i, com.sun.java.xml.ns.j2Ee.JavaTypeType methodParam)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaTypeType)get_store().find_element_user(METHODPARAM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(methodParam);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "method-param" element
+     */
+    public void insertMethodParam(int i, java.lang.String methodParam)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(METHODPARAM$0, i);
+            target.setStringValue(methodParam);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "method-param" element
+     */
+    public void addMethodParam(java.lang.String methodParam)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(METHODPARAM$0);
+            target.setStringValue(methodParam);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "method-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaTypeType insertNewMethodParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaTypeType)get_store().insert_element_user(METHODPARAM$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "method-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JavaTypeType addNewMethodParam()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JavaTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JavaTypeType)get_store().add_element_user(METHODPARAM$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "method-param" element
+     */
+    public void removeMethodParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(METHODPARAM$0, i);
+        }
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * XML Type:  methodType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MethodType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML methodType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MethodTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MethodType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MethodTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName EJBNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-name");
+    private static final javax.xml.namespace.QName METHODINTF$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method-intf");
+    private static final javax.xml.namespace.QName METHODNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method-name");
+    private static final javax.xml.namespace.QName METHODPARAMS$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "method-params");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1928083973:
+                if (name.equals(EJBNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -973464637:
+                if (name.equals(METHODINTF$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -973328393:
+                if (name.equals(METHODNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 991691762:
+                if (name.equals(METHODPARAMS$8))
+                    return ORDINAL$BASE + 4;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-name" element
+     */
+    public java.lang.String getEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbNameType xgetEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-name" element
+     */
+    public void setEjbName(java.lang.String ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBNAME$2);
+            }
+            target.setStringValue(ejbName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-name" element
+     */
+    public void xsetEjbName(com.sun.java.xml.ns.j2Ee.EjbNameType ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().add_element_user(EJBNAME$2);
+            }
+            target.set(ejbName);
+        }
+    }
+    
+    /**
+     * Gets the "method-intf" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodIntfType.Enum getMethodIntf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODINTF$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.MethodIntfType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "method-intf" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodIntfType xgetMethodIntf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodIntfType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodIntfType)get_store().find_element_user(METHODINTF$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "method-intf" element
+     */
+    public boolean isSetMethodIntf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(METHODINTF$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "method-intf" element
+     */
+    public void setMethodIntf(com.sun.java.xml.ns.j2Ee.MethodIntfType.Enum methodIntf)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODINTF$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(METHODINTF$4);
+            }
+            target.setEnumValue(methodIntf);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "method-intf" element
+     */
+    public void xsetMethodIntf(com.sun.java.xml.ns.j2Ee.MethodIntfType methodIntf)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodIntfType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodIntfType)get_store().find_element_user(METHODINTF$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MethodIntfType)get_store().add_element_user(METHODINTF$4);
+            }
+            target.set(methodIntf);
+        }
+    }
+    
+    /**
+     * Unsets the "method-intf" element
+     */
+    public void unsetMethodIntf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(METHODINTF$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "method-name" element
+     */
+    public java.lang.String getMethodName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "method-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodNameType xgetMethodName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodNameType)get_store().find_element_user(METHODNAME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "method-name" element
+     */
+    public void setMethodName(java.lang.String methodName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(METHODNAME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(METHODNAME$6);
+            }
+            target.setStringValue(methodName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "method-name" element
+     */
+    public void xsetMethodName(com.sun.java.xml.ns.j2Ee.MethodNameType methodName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodNameType)get_store().find_element_user(METHODNAME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MethodNameType)get_store().add_element_user(METHODNAME$6);
+            }
+            target.set(methodName);
+        }
+    }
+    
+    /**
+     * Gets the "method-params" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodParamsType getMethodParams()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodParamsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodParamsType)get_store().find_element_user(METHODPARAMS$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "method-params" element
+     */
+    public boolean isSetMethodParams()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(METHODPARAMS$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "method-params" element
+     */
+    public void setMethodParams(com.sun.java.xml.ns.j2Ee.MethodParamsType methodParams)
+    {
+        generatedSetterHelperImpl(methodParams, METHODPARAMS$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "method-params" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MethodParamsType addNewMethodParams()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MethodParamsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MethodParamsType)get_store().add_element_user(METHODPARAMS$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "method-params" element
+     */
+    public void unsetMethodParams()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(METHODPARAMS$8, 0);
+        }
+    }
+}
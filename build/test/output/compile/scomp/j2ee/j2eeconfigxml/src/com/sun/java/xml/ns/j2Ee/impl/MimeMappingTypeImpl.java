@@ -0,0 +1,182 @@
+/*
+ * XML Type:  mime-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MimeMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML mime-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MimeMappingTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MimeMappingType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MimeMappingTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENSION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "extension");
+    private static final javax.xml.namespace.QName MIMETYPE$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "mime-type");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -612557761:
+                if (name.equals(EXTENSION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -242217677:
+                if (name.equals(MIMETYPE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "extension" element
+     */
+    public java.lang.String getExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENSION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(EXTENSION$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "extension" element
+     */
+    public void setExtension(java.lang.String extension)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EXTENSION$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EXTENSION$0);
+            }
+            target.setStringValue(extension);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "extension" element
+     */
+    public void xsetExtension(com.sun.java.xml.ns.j2Ee.String extension)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(EXTENSION$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(EXTENSION$0);
+            }
+            target.set(extension);
+        }
+    }
+    
+    /**
+     * Gets the "mime-type" element
+     */
+    public java.lang.String getMimeType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MIMETYPE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "mime-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MimeTypeType xgetMimeType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MimeTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MimeTypeType)get_store().find_element_user(MIMETYPE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "mime-type" element
+     */
+    public void setMimeType(java.lang.String mimeType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MIMETYPE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MIMETYPE$2);
+            }
+            target.setStringValue(mimeType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "mime-type" element
+     */
+    public void xsetMimeType(com.sun.java.xml.ns.j2Ee.MimeTypeType mimeType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MimeTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MimeTypeType)get_store().find_element_user(MIMETYPE$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MimeTypeType)get_store().add_element_user(MIMETYPE$2);
+            }
+            target.set(mimeType);
+        }
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * XML Type:  moduleType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ModuleType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML moduleType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ModuleTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ModuleType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ModuleTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONNECTOR$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connector");
+    private static final javax.xml.namespace.QName EJB$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb");
+    private static final javax.xml.namespace.QName JAVA$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "java");
+    private static final javax.xml.namespace.QName WEB$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "web");
+    private static final javax.xml.namespace.QName ALTDD$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "alt-dd");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1414697180:
+                if (name.equals(ALTDD$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -579210163:
+                if (name.equals(CONNECTOR$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 100445:
+                if (name.equals(EJB$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 117588:
+                if (name.equals(WEB$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 3254818:
+                if (name.equals(JAVA$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "connector" element
+     */
+    public java.lang.String getConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTOR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "connector" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(CONNECTOR$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "connector" element
+     */
+    public boolean isSetConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONNECTOR$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "connector" element
+     */
+    public void setConnector(java.lang.String connector)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CONNECTOR$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CONNECTOR$0);
+            }
+            target.setStringValue(connector);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "connector" element
+     */
+    public void xsetConnector(com.sun.java.xml.ns.j2Ee.PathType connector)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(CONNECTOR$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(CONNECTOR$0);
+            }
+            target.set(connector);
+        }
+    }
+    
+    /**
+     * Unsets the "connector" element
+     */
+    public void unsetConnector()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONNECTOR$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb" element
+     */
+    public java.lang.String getEjb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJB$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetEjb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(EJB$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ejb" element
+     */
+    public boolean isSetEjb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJB$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "ejb" element
+     */
+    public void setEjb(java.lang.String ejb)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJB$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJB$2);
+            }
+            target.setStringValue(ejb);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb" element
+     */
+    public void xsetEjb(com.sun.java.xml.ns.j2Ee.PathType ejb)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(EJB$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(EJB$2);
+            }
+            target.set(ejb);
+        }
+    }
+    
+    /**
+     * Unsets the "ejb" element
+     */
+    public void unsetEjb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJB$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "java" element
+     */
+    public java.lang.String getJava()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(JAVA$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "java" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetJava()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(JAVA$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "java" element
+     */
+    public boolean isSetJava()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(JAVA$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "java" element
+     */
+    public void setJava(java.lang.String java)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(JAVA$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(JAVA$4);
+            }
+            target.setStringValue(java);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "java" element
+     */
+    public void xsetJava(com.sun.java.xml.ns.j2Ee.PathType java)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(JAVA$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(JAVA$4);
+            }
+            target.set(java);
+        }
+    }
+    
+    /**
+     * Unsets the "java" element
+     */
+    public void unsetJava()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(JAVA$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "web" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebType getWeb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebType)get_store().find_element_user(WEB$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "web" element
+     */
+    public boolean isSetWeb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(WEB$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "web" element
+     */
+    public void setWeb(com.sun.java.xml.ns.j2Ee.WebType web)
+    {
+        generatedSetterHelperImpl(web, WEB$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "web" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebType addNewWeb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebType)get_store().add_element_user(WEB$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "web" element
+     */
+    public void unsetWeb()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(WEB$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "alt-dd" element
+     */
+    public java.lang.String getAltDd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ALTDD$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "alt-dd" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetAltDd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(ALTDD$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "alt-dd" element
+     */
+    public boolean isSetAltDd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ALTDD$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "alt-dd" element
+     */
+    public void setAltDd(java.lang.String altDd)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ALTDD$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ALTDD$8);
+            }
+            target.setStringValue(altDd);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "alt-dd" element
+     */
+    public void xsetAltDd(com.sun.java.xml.ns.j2Ee.PathType altDd)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(ALTDD$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(ALTDD$8);
+            }
+            target.set(altDd);
+        }
+    }
+    
+    /**
+     * Unsets the "alt-dd" element
+     */
+    public void unsetAltDd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ALTDD$8, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$10, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$10);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$10, i);
+        }
+    }
+}
@@ -0,0 +1,521 @@
+/*
+ * XML Type:  outbound-resourceadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML outbound-resourceadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class OutboundResourceadapterTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OutboundResourceadapterTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CONNECTIONDEFINITION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "connection-definition");
+    private static final javax.xml.namespace.QName TRANSACTIONSUPPORT$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "transaction-support");
+    private static final javax.xml.namespace.QName AUTHENTICATIONMECHANISM$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "authentication-mechanism");
+    private static final javax.xml.namespace.QName REAUTHENTICATIONSUPPORT$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "reauthentication-support");
+    private static final javax.xml.namespace.QName SECURITYPERMISSION$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-permission");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1513115012:
+                if (name.equals(SECURITYPERMISSION$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -1090231443:
+                if (name.equals(REAUTHENTICATIONSUPPORT$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 921357218:
+                if (name.equals(CONNECTIONDEFINITION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1607955012:
+                if (name.equals(AUTHENTICATIONMECHANISM$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1779333088:
+                if (name.equals(TRANSACTIONSUPPORT$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "connection-definition" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[] getConnectionDefinitionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONNECTIONDEFINITION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[] result = new com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "connection-definition" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType getConnectionDefinitionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType)get_store().find_element_user(CONNECTIONDEFINITION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "connection-definition" element
+     */
+    public int sizeOfConnectionDefinitionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONNECTIONDEFINITION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "connection-definition" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConnectionDefinitionArray(com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType[] connectionDefinitionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(connectionDefinitionArray, CONNECTIONDEFINITION$0);
+    }
+    
+    /**
+     * Sets ith "connection-definition" element
+     */
+    public void setConnectionDefinitionArray(int i, com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType connectionDefinition)
+    {
+        generatedSetterHelperImpl(connectionDefinition, CONNECTIONDEFINITION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "connection-definition" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType insertNewConnectionDefinition(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType)get_store().insert_element_user(CONNECTIONDEFINITION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "connection-definition" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType addNewConnectionDefinition()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConnectionDefinitionType)get_store().add_element_user(CONNECTIONDEFINITION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "connection-definition" element
+     */
+    public void removeConnectionDefinition(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONNECTIONDEFINITION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "transaction-support" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionSupportType.Enum getTransactionSupport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONSUPPORT$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.TransactionSupportType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "transaction-support" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionSupportType xgetTransactionSupport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionSupportType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionSupportType)get_store().find_element_user(TRANSACTIONSUPPORT$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "transaction-support" element
+     */
+    public void setTransactionSupport(com.sun.java.xml.ns.j2Ee.TransactionSupportType.Enum transactionSupport)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONSUPPORT$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TRANSACTIONSUPPORT$2);
+            }
+            target.setEnumValue(transactionSupport);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "transaction-support" element
+     */
+    public void xsetTransactionSupport(com.sun.java.xml.ns.j2Ee.TransactionSupportType transactionSupport)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionSupportType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionSupportType)get_store().find_element_user(TRANSACTIONSUPPORT$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TransactionSupportType)get_store().add_element_user(TRANSACTIONSUPPORT$2);
+            }
+            target.set(transactionSupport);
+        }
+    }
+    
+    /**
+     * Gets array of all "authentication-mechanism" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[] getAuthenticationMechanismArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(AUTHENTICATIONMECHANISM$4, targetList);
+            com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[] result = new com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "authentication-mechanism" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType getAuthenticationMechanismArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType)get_store().find_element_user(AUTHENTICATIONMECHANISM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "authentication-mechanism" element
+     */
+    public int sizeOfAuthenticationMechanismArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(AUTHENTICATIONMECHANISM$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "authentication-mechanism" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setAuthenticationMechanismArray(com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType[] authenticationMechanismArray)
+    {
+        check_orphaned();
+        arraySetterHelper(authenticationMechanismArray, AUTHENTICATIONMECHANISM$4);
+    }
+    
+    /**
+     * Sets ith "authentication-mechanism" element
+     */
+    public void setAuthenticationMechanismArray(int i, com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType authenticationMechanism)
+    {
+        generatedSetterHelperImpl(authenticationMechanism, AUTHENTICATIONMECHANISM$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "authentication-mechanism" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType insertNewAuthenticationMechanism(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType)get_store().insert_element_user(AUTHENTICATIONMECHANISM$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "authentication-mechanism" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType addNewAuthenticationMechanism()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthenticationMechanismType)get_store().add_element_user(AUTHENTICATIONMECHANISM$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "authentication-mechanism" element
+     */
+    public void removeAuthenticationMechanism(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(AUTHENTICATIONMECHANISM$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "reauthentication-support" element
+     */
+    public boolean getReauthenticationSupport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(REAUTHENTICATIONSUPPORT$6, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REAUTHENTICATIONSUPPORT$6, 0);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "reauthentication-support" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TrueFalseType xgetReauthenticationSupport()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(REAUTHENTICATIONSUPPORT$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "reauthentication-support" element
+     */
+    public void setReauthenticationSupport(boolean reauthenticationSupport)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REAUTHENTICATIONSUPPORT$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REAUTHENTICATIONSUPPORT$6);
+            }
+            target.setBooleanValue(reauthenticationSupport);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "reauthentication-support" element
+     */
+    public void xsetReauthenticationSupport(com.sun.java.xml.ns.j2Ee.TrueFalseType reauthenticationSupport)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(REAUTHENTICATIONSUPPORT$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().add_element_user(REAUTHENTICATIONSUPPORT$6);
+            }
+            target.set(reauthenticationSupport);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-permission" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityPermissionType[] getSecurityPermissionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYPERMISSION$8, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityPermissionType[] result = new com.sun.java.xml.ns.j2Ee.SecurityPermissionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityPermissionType getSecurityPermissionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityPermissionType)get_store().find_element_user(SECURITYPERMISSION$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-permission" element
+     */
+    public int sizeOfSecurityPermissionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYPERMISSION$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-permission" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityPermissionArray(com.sun.java.xml.ns.j2Ee.SecurityPermissionType[] securityPermissionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityPermissionArray, SECURITYPERMISSION$8);
+    }
+    
+    /**
+     * Sets ith "security-permission" element
+     */
+    public void setSecurityPermissionArray(int i, com.sun.java.xml.ns.j2Ee.SecurityPermissionType securityPermission)
+    {
+        generatedSetterHelperImpl(securityPermission, SECURITYPERMISSION$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityPermissionType insertNewSecurityPermission(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityPermissionType)get_store().insert_element_user(SECURITYPERMISSION$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-permission" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityPermissionType addNewSecurityPermission()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityPermissionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityPermissionType)get_store().add_element_user(SECURITYPERMISSION$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-permission" element
+     */
+    public void removeSecurityPermission(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYPERMISSION$8, i);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * XML Type:  queryType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.QueryType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML queryType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class QueryTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.QueryType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public QueryTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName QUERYMETHOD$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "query-method");
+    private static final javax.xml.namespace.QName RESULTTYPEMAPPING$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "result-type-mapping");
+    private static final javax.xml.namespace.QName EJBQL$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ql");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1302563445:
+                if (name.equals(EJBQL$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -15781498:
+                if (name.equals(QUERYMETHOD$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1438180587:
+                if (name.equals(RESULTTYPEMAPPING$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "description" element
+     */
+    public boolean isSetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "description" element
+     */
+    public void unsetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "query-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryMethodType getQueryMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.QueryMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.QueryMethodType)get_store().find_element_user(QUERYMETHOD$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "query-method" element
+     */
+    public void setQueryMethod(com.sun.java.xml.ns.j2Ee.QueryMethodType queryMethod)
+    {
+        generatedSetterHelperImpl(queryMethod, QUERYMETHOD$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "query-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.QueryMethodType addNewQueryMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.QueryMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.QueryMethodType)get_store().add_element_user(QUERYMETHOD$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "result-type-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResultTypeMappingType.Enum getResultTypeMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESULTTYPEMAPPING$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.ResultTypeMappingType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "result-type-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResultTypeMappingType xgetResultTypeMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResultTypeMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResultTypeMappingType)get_store().find_element_user(RESULTTYPEMAPPING$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "result-type-mapping" element
+     */
+    public boolean isSetResultTypeMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESULTTYPEMAPPING$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "result-type-mapping" element
+     */
+    public void setResultTypeMapping(com.sun.java.xml.ns.j2Ee.ResultTypeMappingType.Enum resultTypeMapping)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESULTTYPEMAPPING$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESULTTYPEMAPPING$4);
+            }
+            target.setEnumValue(resultTypeMapping);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "result-type-mapping" element
+     */
+    public void xsetResultTypeMapping(com.sun.java.xml.ns.j2Ee.ResultTypeMappingType resultTypeMapping)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResultTypeMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResultTypeMappingType)get_store().find_element_user(RESULTTYPEMAPPING$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ResultTypeMappingType)get_store().add_element_user(RESULTTYPEMAPPING$4);
+            }
+            target.set(resultTypeMapping);
+        }
+    }
+    
+    /**
+     * Unsets the "result-type-mapping" element
+     */
+    public void unsetResultTypeMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESULTTYPEMAPPING$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-ql" element
+     */
+    public java.lang.String getEjbQl()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBQL$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-ql" element
+     */
+    public org.apache.xmlbeans.XmlString xgetEjbQl()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EJBQL$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-ql" element
+     */
+    public void setEjbQl(java.lang.String ejbQl)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBQL$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBQL$6);
+            }
+            target.setStringValue(ejbQl);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-ql" element
+     */
+    public void xsetEjbQl(org.apache.xmlbeans.XmlString ejbQl)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(EJBQL$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(EJBQL$6);
+            }
+            target.set(ejbQl);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$8, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$8);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$8, i);
+        }
+    }
+}
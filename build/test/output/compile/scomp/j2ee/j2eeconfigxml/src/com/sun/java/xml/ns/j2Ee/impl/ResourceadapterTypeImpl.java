@@ -0,0 +1,490 @@
+/*
+ * XML Type:  resourceadapterType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ResourceadapterType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML resourceadapterType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ResourceadapterTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ResourceadapterType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResourceadapterTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RESOURCEADAPTERCLASS$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resourceadapter-class");
+    private static final javax.xml.namespace.QName CONFIGPROPERTY$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "config-property");
+    private static final javax.xml.namespace.QName OUTBOUNDRESOURCEADAPTER$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "outbound-resourceadapter");
+    private static final javax.xml.namespace.QName INBOUNDRESOURCEADAPTER$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "inbound-resourceadapter");
+    private static final javax.xml.namespace.QName ADMINOBJECT$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "adminobject");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2143035740:
+                if (name.equals(OUTBOUNDRESOURCEADAPTER$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -2108281812:
+                if (name.equals(RESOURCEADAPTERCLASS$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1709089491:
+                if (name.equals(INBOUNDRESOURCEADAPTER$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 298102606:
+                if (name.equals(ADMINOBJECT$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1816684544:
+                if (name.equals(CONFIGPROPERTY$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "resourceadapter-class" element
+     */
+    public java.lang.String getResourceadapterClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESOURCEADAPTERCLASS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "resourceadapter-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetResourceadapterClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(RESOURCEADAPTERCLASS$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "resourceadapter-class" element
+     */
+    public boolean isSetResourceadapterClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEADAPTERCLASS$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "resourceadapter-class" element
+     */
+    public void setResourceadapterClass(java.lang.String resourceadapterClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESOURCEADAPTERCLASS$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESOURCEADAPTERCLASS$0);
+            }
+            target.setStringValue(resourceadapterClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "resourceadapter-class" element
+     */
+    public void xsetResourceadapterClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType resourceadapterClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(RESOURCEADAPTERCLASS$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(RESOURCEADAPTERCLASS$0);
+            }
+            target.set(resourceadapterClass);
+        }
+    }
+    
+    /**
+     * Unsets the "resourceadapter-class" element
+     */
+    public void unsetResourceadapterClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEADAPTERCLASS$0, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "config-property" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] getConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONFIGPROPERTY$2, targetList);
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] result = new com.sun.java.xml.ns.j2Ee.ConfigPropertyType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType getConfigPropertyArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().find_element_user(CONFIGPROPERTY$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "config-property" element
+     */
+    public int sizeOfConfigPropertyArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONFIGPROPERTY$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "config-property" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConfigPropertyArray(com.sun.java.xml.ns.j2Ee.ConfigPropertyType[] configPropertyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(configPropertyArray, CONFIGPROPERTY$2);
+    }
+    
+    /**
+     * Sets ith "config-property" element
+     */
+    public void setConfigPropertyArray(int i, com.sun.java.xml.ns.j2Ee.ConfigPropertyType configProperty)
+    {
+        generatedSetterHelperImpl(configProperty, CONFIGPROPERTY$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType insertNewConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().insert_element_user(CONFIGPROPERTY$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "config-property" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ConfigPropertyType addNewConfigProperty()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ConfigPropertyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ConfigPropertyType)get_store().add_element_user(CONFIGPROPERTY$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "config-property" element
+     */
+    public void removeConfigProperty(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONFIGPROPERTY$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "outbound-resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType getOutboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType)get_store().find_element_user(OUTBOUNDRESOURCEADAPTER$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "outbound-resourceadapter" element
+     */
+    public boolean isSetOutboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(OUTBOUNDRESOURCEADAPTER$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "outbound-resourceadapter" element
+     */
+    public void setOutboundResourceadapter(com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType outboundResourceadapter)
+    {
+        generatedSetterHelperImpl(outboundResourceadapter, OUTBOUNDRESOURCEADAPTER$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "outbound-resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType addNewOutboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.OutboundResourceadapterType)get_store().add_element_user(OUTBOUNDRESOURCEADAPTER$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "outbound-resourceadapter" element
+     */
+    public void unsetOutboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(OUTBOUNDRESOURCEADAPTER$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "inbound-resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.InboundResourceadapterType getInboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.InboundResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.InboundResourceadapterType)get_store().find_element_user(INBOUNDRESOURCEADAPTER$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "inbound-resourceadapter" element
+     */
+    public boolean isSetInboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INBOUNDRESOURCEADAPTER$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "inbound-resourceadapter" element
+     */
+    public void setInboundResourceadapter(com.sun.java.xml.ns.j2Ee.InboundResourceadapterType inboundResourceadapter)
+    {
+        generatedSetterHelperImpl(inboundResourceadapter, INBOUNDRESOURCEADAPTER$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "inbound-resourceadapter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.InboundResourceadapterType addNewInboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.InboundResourceadapterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.InboundResourceadapterType)get_store().add_element_user(INBOUNDRESOURCEADAPTER$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "inbound-resourceadapter" element
+     */
+    public void unsetInboundResourceadapter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INBOUNDRESOURCEADAPTER$6, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "adminobject" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.AdminobjectType[] getAdminobjectArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ADMINOBJECT$8, targetList);
+            com.sun.java.xml.ns.j2Ee.AdminobjectType[] result = new com.sun.java.xml.ns.j2Ee.AdminobjectType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "adminobject" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AdminobjectType getAdminobjectArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AdminobjectType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AdminobjectType)get_store().find_element_user(ADMINOBJECT$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "adminobject" element
+     */
+    public int sizeOfAdminobjectArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ADMINOBJECT$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "adminobject" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setAdminobjectArray(com.sun.java.xml.ns.j2Ee.AdminobjectType[] adminobjectArray)
+    {
+        check_orphaned();
+        arraySetterHelper(adminobjectArray, ADMINOBJECT$8);
+    }
+    
+    /**
+     * Sets ith "adminobject" element
+     */
+    public void setAdminobjectArray(int i, com.sun.java.xml.ns.j2Ee.AdminobjectType adminobject)
+    {
+        generatedSetterHelperImpl(adminobject, ADMINOBJECT$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "adminobject" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AdminobjectType insertNewAdminobject(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AdminobjectType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AdminobjectType)get_store().insert_element_user(ADMINOBJECT$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "adminobject" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AdminobjectType addNewAdminobject()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AdminobjectType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AdminobjectType)get_store().add_element_user(ADMINOBJECT$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "adminobject" element
+     */
+    public void removeAdminobject(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ADMINOBJECT$8, i);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * XML Type:  security-constraintType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.SecurityConstraintType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML security-constraintType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class SecurityConstraintTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.SecurityConstraintType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SecurityConstraintTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DISPLAYNAME$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName WEBRESOURCECOLLECTION$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "web-resource-collection");
+    private static final javax.xml.namespace.QName AUTHCONSTRAINT$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "auth-constraint");
+    private static final javax.xml.namespace.QName USERDATACONSTRAINT$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "user-data-constraint");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1696265438:
+                if (name.equals(AUTHCONSTRAINT$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case -133994044:
+                if (name.equals(WEBRESOURCECOLLECTION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 765458910:
+                if (name.equals(USERDATACONSTRAINT$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$0);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "web-resource-collection" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.WebResourceCollectionType[] getWebResourceCollectionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(WEBRESOURCECOLLECTION$2, targetList);
+            com.sun.java.xml.ns.j2Ee.WebResourceCollectionType[] result = new com.sun.java.xml.ns.j2Ee.WebResourceCollectionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "web-resource-collection" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebResourceCollectionType getWebResourceCollectionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebResourceCollectionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebResourceCollectionType)get_store().find_element_user(WEBRESOURCECOLLECTION$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "web-resource-collection" element
+     */
+    public int sizeOfWebResourceCollectionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(WEBRESOURCECOLLECTION$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "web-resource-collection" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setWebResourceCollectionArray(com.sun.java.xml.ns.j2Ee.WebResourceCollectionType[] webResourceCollectionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(webResourceCollectionArray, WEBRESOURCECOLLECTION$2);
+    }
+    
+    /**
+     * Sets ith "web-resource-collection" element
+     */
+    public void setWebResourceCollectionArray(int i, com.sun.java.xml.ns.j2Ee.WebResourceCollectionType webResourceCollection)
+    {
+        generatedSetterHelperImpl(webResourceCollection, WEBRESOURCECOLLECTION$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "web-resource-collection" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebResourceCollectionType insertNewWebResourceCollection(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebResourceCollectionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebResourceCollectionType)get_store().insert_element_user(WEBRESOURCECOLLECTION$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "web-resource-collection" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebResourceCollectionType addNewWebResourceCollection()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebResourceCollectionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebResourceCollectionType)get_store().add_element_user(WEBRESOURCECOLLECTION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "web-resource-collection" element
+     */
+    public void removeWebResourceCollection(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(WEBRESOURCECOLLECTION$2, i);
+        }
+    }
+    
+    /**
+     * Gets the "auth-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthConstraintType getAuthConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthConstraintType)get_store().find_element_user(AUTHCONSTRAINT$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "auth-constraint" element
+     */
+    public boolean isSetAuthConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(AUTHCONSTRAINT$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "auth-constraint" element
+     */
+    public void setAuthConstraint(com.sun.java.xml.ns.j2Ee.AuthConstraintType authConstraint)
+    {
+        generatedSetterHelperImpl(authConstraint, AUTHCONSTRAINT$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "auth-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.AuthConstraintType addNewAuthConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.AuthConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.AuthConstraintType)get_store().add_element_user(AUTHCONSTRAINT$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "auth-constraint" element
+     */
+    public void unsetAuthConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(AUTHCONSTRAINT$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "user-data-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UserDataConstraintType getUserDataConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UserDataConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UserDataConstraintType)get_store().find_element_user(USERDATACONSTRAINT$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "user-data-constraint" element
+     */
+    public boolean isSetUserDataConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(USERDATACONSTRAINT$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "user-data-constraint" element
+     */
+    public void setUserDataConstraint(com.sun.java.xml.ns.j2Ee.UserDataConstraintType userDataConstraint)
+    {
+        generatedSetterHelperImpl(userDataConstraint, USERDATACONSTRAINT$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "user-data-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UserDataConstraintType addNewUserDataConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UserDataConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UserDataConstraintType)get_store().add_element_user(USERDATACONSTRAINT$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "user-data-constraint" element
+     */
+    public void unsetUserDataConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(USERDATACONSTRAINT$6, 0);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  servlet-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ServletMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML servlet-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ServletMappingTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ServletMappingType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ServletMappingTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SERVLETNAME$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet-name");
+    private static final javax.xml.namespace.QName URLPATTERN$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "url-pattern");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -843354861:
+                if (name.equals(SERVLETNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1971762482:
+                if (name.equals(URLPATTERN$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "servlet-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletNameType xgetServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SERVLETNAME$0);
+            }
+            target.setStringValue(servletName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "servlet-name" element
+     */
+    public void xsetServletName(com.sun.java.xml.ns.j2Ee.ServletNameType servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().add_element_user(SERVLETNAME$0);
+            }
+            target.set(servletName);
+        }
+    }
+    
+    /**
+     * Gets the "url-pattern" element
+     */
+    public java.lang.String getUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "url-pattern" element
+     */
+    public void setUrlPattern(java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(URLPATTERN$2);
+            }
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "url-pattern" element
+     */
+    public void xsetUrlPattern(com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().add_element_user(URLPATTERN$2);
+            }
+            target.set(urlPattern);
+        }
+    }
+}
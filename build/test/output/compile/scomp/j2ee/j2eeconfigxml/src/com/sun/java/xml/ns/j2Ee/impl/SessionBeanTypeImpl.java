@@ -0,0 +1,2198 @@
+/*
+ * XML Type:  session-beanType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.SessionBeanType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML session-beanType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class SessionBeanTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.SessionBeanType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SessionBeanTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName EJBNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-name");
+    private static final javax.xml.namespace.QName HOME$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "home");
+    private static final javax.xml.namespace.QName REMOTE$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "remote");
+    private static final javax.xml.namespace.QName LOCALHOME$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "local-home");
+    private static final javax.xml.namespace.QName LOCAL$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "local");
+    private static final javax.xml.namespace.QName SERVICEENDPOINT$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "service-endpoint");
+    private static final javax.xml.namespace.QName EJBCLASS$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-class");
+    private static final javax.xml.namespace.QName SESSIONTYPE$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "session-type");
+    private static final javax.xml.namespace.QName TRANSACTIONTYPE$22 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "transaction-type");
+    private static final javax.xml.namespace.QName ENVENTRY$24 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry");
+    private static final javax.xml.namespace.QName EJBREF$26 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref");
+    private static final javax.xml.namespace.QName EJBLOCALREF$28 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-local-ref");
+    private static final javax.xml.namespace.QName SERVICEREF$30 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "service-ref");
+    private static final javax.xml.namespace.QName SECURITYROLEREF$32 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role-ref");
+    private static final javax.xml.namespace.QName SECURITYIDENTITY$34 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-identity");
+    private static final javax.xml.namespace.QName RESOURCEREF$36 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-ref");
+    private static final javax.xml.namespace.QName RESOURCEENVREF$38 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-env-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREF$40 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$42 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(22);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2119059799:
+                if (name.equals(SECURITYROLEREF$32))
+                    return ORDINAL$BASE + 16;
+                break;
+            case -1987074901:
+                if (name.equals(SECURITYIDENTITY$34))
+                    return ORDINAL$BASE + 17;
+                break;
+            case -1929539205:
+                if (name.equals(SERVICEREF$30))
+                    return ORDINAL$BASE + 15;
+                break;
+            case -1928083973:
+                if (name.equals(EJBNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1724760285:
+                if (name.equals(EJBREF$26))
+                    return ORDINAL$BASE + 13;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$42))
+                    return ORDINAL$BASE + 21;
+                break;
+            case -934610874:
+                if (name.equals(REMOTE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -732406767:
+                if (name.equals(SESSIONTYPE$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case -697466990:
+                if (name.equals(ENVENTRY$24))
+                    return ORDINAL$BASE + 12;
+                break;
+            case -497642067:
+                if (name.equals(SERVICEENDPOINT$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case -385533356:
+                if (name.equals(RESOURCEREF$36))
+                    return ORDINAL$BASE + 18;
+                break;
+            case -238175807:
+                if (name.equals(EJBLOCALREF$28))
+                    return ORDINAL$BASE + 14;
+                break;
+            case 3208415:
+                if (name.equals(HOME$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 103145323:
+                if (name.equals(LOCAL$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 349096968:
+                if (name.equals(EJBCLASS$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case 462878921:
+                if (name.equals(TRANSACTIONTYPE$22))
+                    return ORDINAL$BASE + 11;
+                break;
+            case 1257185793:
+                if (name.equals(LOCALHOME$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1964231822:
+                if (name.equals(MESSAGEDESTINATIONREF$40))
+                    return ORDINAL$BASE + 20;
+                break;
+            case 1964650740:
+                if (name.equals(RESOURCEENVREF$38))
+                    return ORDINAL$BASE + 19;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-name" element
+     */
+    public java.lang.String getEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbNameType xgetEjbName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-name" element
+     */
+    public void setEjbName(java.lang.String ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBNAME$6);
+            }
+            target.setStringValue(ejbName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-name" element
+     */
+    public void xsetEjbName(com.sun.java.xml.ns.j2Ee.EjbNameType ejbName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().find_element_user(EJBNAME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbNameType)get_store().add_element_user(EJBNAME$6);
+            }
+            target.set(ejbName);
+        }
+    }
+    
+    /**
+     * Gets the "home" element
+     */
+    public java.lang.String getHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "home" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HomeType xgetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "home" element
+     */
+    public boolean isSetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HOME$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "home" element
+     */
+    public void setHome(java.lang.String home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOME$8);
+            }
+            target.setStringValue(home);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "home" element
+     */
+    public void xsetHome(com.sun.java.xml.ns.j2Ee.HomeType home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().add_element_user(HOME$8);
+            }
+            target.set(home);
+        }
+    }
+    
+    /**
+     * Unsets the "home" element
+     */
+    public void unsetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HOME$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "remote" element
+     */
+    public java.lang.String getRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "remote" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RemoteType xgetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "remote" element
+     */
+    public boolean isSetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(REMOTE$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "remote" element
+     */
+    public void setRemote(java.lang.String remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REMOTE$10);
+            }
+            target.setStringValue(remote);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "remote" element
+     */
+    public void xsetRemote(com.sun.java.xml.ns.j2Ee.RemoteType remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().add_element_user(REMOTE$10);
+            }
+            target.set(remote);
+        }
+    }
+    
+    /**
+     * Unsets the "remote" element
+     */
+    public void unsetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(REMOTE$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "local-home" element
+     */
+    public java.lang.String getLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "local-home" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocalHomeType xgetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalHomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().find_element_user(LOCALHOME$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "local-home" element
+     */
+    public boolean isSetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHOME$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "local-home" element
+     */
+    public void setLocalHome(java.lang.String localHome)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCALHOME$12);
+            }
+            target.setStringValue(localHome);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "local-home" element
+     */
+    public void xsetLocalHome(com.sun.java.xml.ns.j2Ee.LocalHomeType localHome)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalHomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().find_element_user(LOCALHOME$12, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.LocalHomeType)get_store().add_element_user(LOCALHOME$12);
+            }
+            target.set(localHome);
+        }
+    }
+    
+    /**
+     * Unsets the "local-home" element
+     */
+    public void unsetLocalHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHOME$12, 0);
+        }
+    }
+    
+    /**
+     * Gets the "local" element
+     */
+    public java.lang.String getLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "local" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocalType xgetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().find_element_user(LOCAL$14, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "local" element
+     */
+    public boolean isSetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCAL$14) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "local" element
+     */
+    public void setLocal(java.lang.String local)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCAL$14);
+            }
+            target.setStringValue(local);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "local" element
+     */
+    public void xsetLocal(com.sun.java.xml.ns.j2Ee.LocalType local)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocalType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().find_element_user(LOCAL$14, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.LocalType)get_store().add_element_user(LOCAL$14);
+            }
+            target.set(local);
+        }
+    }
+    
+    /**
+     * Unsets the "local" element
+     */
+    public void unsetLocal()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCAL$14, 0);
+        }
+    }
+    
+    /**
+     * Gets the "service-endpoint" element
+     */
+    public java.lang.String getServiceEndpoint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVICEENDPOINT$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "service-endpoint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetServiceEndpoint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(SERVICEENDPOINT$16, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "service-endpoint" element
+     */
+    public boolean isSetServiceEndpoint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVICEENDPOINT$16) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "service-endpoint" element
+     */
+    public void setServiceEndpoint(java.lang.String serviceEndpoint)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVICEENDPOINT$16, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SERVICEENDPOINT$16);
+            }
+            target.setStringValue(serviceEndpoint);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "service-endpoint" element
+     */
+    public void xsetServiceEndpoint(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType serviceEndpoint)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(SERVICEENDPOINT$16, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(SERVICEENDPOINT$16);
+            }
+            target.set(serviceEndpoint);
+        }
+    }
+    
+    /**
+     * Unsets the "service-endpoint" element
+     */
+    public void unsetServiceEndpoint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVICEENDPOINT$16, 0);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-class" element
+     */
+    public java.lang.String getEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$18, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbClassType xgetEjbClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$18, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-class" element
+     */
+    public void setEjbClass(java.lang.String ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBCLASS$18, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBCLASS$18);
+            }
+            target.setStringValue(ejbClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-class" element
+     */
+    public void xsetEjbClass(com.sun.java.xml.ns.j2Ee.EjbClassType ejbClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().find_element_user(EJBCLASS$18, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbClassType)get_store().add_element_user(EJBCLASS$18);
+            }
+            target.set(ejbClass);
+        }
+    }
+    
+    /**
+     * Gets the "session-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionTypeType.Enum getSessionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONTYPE$20, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.SessionTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "session-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionTypeType xgetSessionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionTypeType)get_store().find_element_user(SESSIONTYPE$20, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "session-type" element
+     */
+    public void setSessionType(com.sun.java.xml.ns.j2Ee.SessionTypeType.Enum sessionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONTYPE$20, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SESSIONTYPE$20);
+            }
+            target.setEnumValue(sessionType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "session-type" element
+     */
+    public void xsetSessionType(com.sun.java.xml.ns.j2Ee.SessionTypeType sessionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionTypeType)get_store().find_element_user(SESSIONTYPE$20, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.SessionTypeType)get_store().add_element_user(SESSIONTYPE$20);
+            }
+            target.set(sessionType);
+        }
+    }
+    
+    /**
+     * Gets the "transaction-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum getTransactionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONTYPE$22, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "transaction-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TransactionTypeType xgetTransactionType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().find_element_user(TRANSACTIONTYPE$22, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "transaction-type" element
+     */
+    public void setTransactionType(com.sun.java.xml.ns.j2Ee.TransactionTypeType.Enum transactionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TRANSACTIONTYPE$22, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TRANSACTIONTYPE$22);
+            }
+            target.setEnumValue(transactionType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "transaction-type" element
+     */
+    public void xsetTransactionType(com.sun.java.xml.ns.j2Ee.TransactionTypeType transactionType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TransactionTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().find_element_user(TRANSACTIONTYPE$22, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TransactionTypeType)get_store().add_element_user(TRANSACTIONTYPE$22);
+            }
+            target.set(transactionType);
+        }
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVENTRY$24, targetList);
+            com.sun.java.xml.ns.j2Ee.EnvEntryType[] result = new com.sun.java.xml.ns.j2Ee.EnvEntryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().find_element_user(ENVENTRY$24, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    public int sizeOfEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRY$24);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-entry" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envEntryArray, ENVENTRY$24);
+    }
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    public void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry)
+    {
+        generatedSetterHelperImpl(envEntry, ENVENTRY$24, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().insert_element_user(ENVENTRY$24, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().add_element_user(ENVENTRY$24);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    public void removeEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRY$24, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBREF$26, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().find_element_user(EJBREF$26, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    public int sizeOfEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBREF$26);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbRefArray, EJBREF$26);
+    }
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    public void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef)
+    {
+        generatedSetterHelperImpl(ejbRef, EJBREF$26, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().insert_element_user(EJBREF$26, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().add_element_user(EJBREF$26);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    public void removeEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBREF$26, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] getEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBLOCALREF$28, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbLocalRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType getEjbLocalRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().find_element_user(EJBLOCALREF$28, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-local-ref" element
+     */
+    public int sizeOfEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBLOCALREF$28);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-local-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] ejbLocalRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbLocalRefArray, EJBLOCALREF$28);
+    }
+    
+    /**
+     * Sets ith "ejb-local-ref" element
+     */
+    public void setEjbLocalRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbLocalRefType ejbLocalRef)
+    {
+        generatedSetterHelperImpl(ejbLocalRef, EJBLOCALREF$28, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType insertNewEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().insert_element_user(EJBLOCALREF$28, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType addNewEjbLocalRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().add_element_user(EJBLOCALREF$28);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-local-ref" element
+     */
+    public void removeEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBLOCALREF$28, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "service-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType[] getServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SERVICEREF$30, targetList);
+            com.sun.java.xml.ns.j2Ee.ServiceRefType[] result = new com.sun.java.xml.ns.j2Ee.ServiceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType getServiceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().find_element_user(SERVICEREF$30, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "service-ref" element
+     */
+    public int sizeOfServiceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVICEREF$30);
+        }
+    }
+    
+    /**
+     * Sets array of all "service-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setServiceRefArray(com.sun.java.xml.ns.j2Ee.ServiceRefType[] serviceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(serviceRefArray, SERVICEREF$30);
+    }
+    
+    /**
+     * Sets ith "service-ref" element
+     */
+    public void setServiceRefArray(int i, com.sun.java.xml.ns.j2Ee.ServiceRefType serviceRef)
+    {
+        generatedSetterHelperImpl(serviceRef, SERVICEREF$30, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType insertNewServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().insert_element_user(SERVICEREF$30, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "service-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServiceRefType addNewServiceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServiceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServiceRefType)get_store().add_element_user(SERVICEREF$30);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "service-ref" element
+     */
+    public void removeServiceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVICEREF$30, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-role-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] getSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLEREF$32, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType getSecurityRoleRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().find_element_user(SECURITYROLEREF$32, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role-ref" element
+     */
+    public int sizeOfSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLEREF$32);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleRefArray(com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] securityRoleRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleRefArray, SECURITYROLEREF$32);
+    }
+    
+    /**
+     * Sets ith "security-role-ref" element
+     */
+    public void setSecurityRoleRefArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleRefType securityRoleRef)
+    {
+        generatedSetterHelperImpl(securityRoleRef, SECURITYROLEREF$32, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType insertNewSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().insert_element_user(SECURITYROLEREF$32, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType addNewSecurityRoleRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().add_element_user(SECURITYROLEREF$32);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role-ref" element
+     */
+    public void removeSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLEREF$32, i);
+        }
+    }
+    
+    /**
+     * Gets the "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType getSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().find_element_user(SECURITYIDENTITY$34, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "security-identity" element
+     */
+    public boolean isSetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYIDENTITY$34) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "security-identity" element
+     */
+    public void setSecurityIdentity(com.sun.java.xml.ns.j2Ee.SecurityIdentityType securityIdentity)
+    {
+        generatedSetterHelperImpl(securityIdentity, SECURITYIDENTITY$34, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "security-identity" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityIdentityType addNewSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityIdentityType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityIdentityType)get_store().add_element_user(SECURITYIDENTITY$34);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "security-identity" element
+     */
+    public void unsetSecurityIdentity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYIDENTITY$34, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEREF$36, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().find_element_user(RESOURCEREF$36, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    public int sizeOfResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEREF$36);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceRefArray, RESOURCEREF$36);
+    }
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    public void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef)
+    {
+        generatedSetterHelperImpl(resourceRef, RESOURCEREF$36, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().insert_element_user(RESOURCEREF$36, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().add_element_user(RESOURCEREF$36);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    public void removeResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEREF$36, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEENVREF$38, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().find_element_user(RESOURCEENVREF$38, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    public int sizeOfResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEENVREF$38);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceEnvRefArray, RESOURCEENVREF$38);
+    }
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    public void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef)
+    {
+        generatedSetterHelperImpl(resourceEnvRef, RESOURCEENVREF$38, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().insert_element_user(RESOURCEENVREF$38, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().add_element_user(RESOURCEENVREF$38);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    public void removeResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEENVREF$38, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATIONREF$40, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().find_element_user(MESSAGEDESTINATIONREF$40, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    public int sizeOfMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONREF$40);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationRefArray, MESSAGEDESTINATIONREF$40);
+    }
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    public void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef)
+    {
+        generatedSetterHelperImpl(messageDestinationRef, MESSAGEDESTINATIONREF$40, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().insert_element_user(MESSAGEDESTINATIONREF$40, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().add_element_user(MESSAGEDESTINATIONREF$40);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    public void removeMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONREF$40, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$42, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$42, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$42);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$42);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$42, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$42, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$42);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$42, i);
+        }
+    }
+}
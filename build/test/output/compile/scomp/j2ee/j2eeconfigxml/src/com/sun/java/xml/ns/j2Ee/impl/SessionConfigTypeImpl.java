@@ -0,0 +1,132 @@
+/*
+ * XML Type:  session-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.SessionConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML session-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class SessionConfigTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.SessionConfigType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SessionConfigTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SESSIONTIMEOUT$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "session-timeout");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1156858582:
+                if (name.equals(SESSIONTIMEOUT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "session-timeout" element
+     */
+    public java.math.BigInteger getSessionTimeout()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONTIMEOUT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "session-timeout" element
+     */
+    public org.apache.xmlbeans.XmlNonNegativeInteger xgetSessionTimeout()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().find_element_user(SESSIONTIMEOUT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "session-timeout" element
+     */
+    public boolean isSetSessionTimeout()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SESSIONTIMEOUT$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "session-timeout" element
+     */
+    public void setSessionTimeout(java.math.BigInteger sessionTimeout)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SESSIONTIMEOUT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SESSIONTIMEOUT$0);
+            }
+            target.setBigIntegerValue(sessionTimeout);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "session-timeout" element
+     */
+    public void xsetSessionTimeout(org.apache.xmlbeans.XmlNonNegativeInteger sessionTimeout)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNonNegativeInteger target = null;
+            target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().find_element_user(SESSIONTIMEOUT$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNonNegativeInteger)get_store().add_element_user(SESSIONTIMEOUT$0);
+            }
+            target.set(sessionTimeout);
+        }
+    }
+    
+    /**
+     * Unsets the "session-timeout" element
+     */
+    public void unsetSessionTimeout()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SESSIONTIMEOUT$0, 0);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  taglibType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.TaglibType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML taglibType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class TaglibTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.TaglibType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TaglibTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TAGLIBURI$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "taglib-uri");
+    private static final javax.xml.namespace.QName TAGLIBLOCATION$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "taglib-location");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1721717097:
+                if (name.equals(TAGLIBLOCATION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -1265143478:
+                if (name.equals(TAGLIBURI$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "taglib-uri" element
+     */
+    public java.lang.String getTaglibUri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TAGLIBURI$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "taglib-uri" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetTaglibUri()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(TAGLIBURI$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "taglib-uri" element
+     */
+    public void setTaglibUri(java.lang.String taglibUri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TAGLIBURI$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TAGLIBURI$0);
+            }
+            target.setStringValue(taglibUri);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "taglib-uri" element
+     */
+    public void xsetTaglibUri(com.sun.java.xml.ns.j2Ee.String taglibUri)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(TAGLIBURI$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(TAGLIBURI$0);
+            }
+            target.set(taglibUri);
+        }
+    }
+    
+    /**
+     * Gets the "taglib-location" element
+     */
+    public java.lang.String getTaglibLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TAGLIBLOCATION$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "taglib-location" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetTaglibLocation()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(TAGLIBLOCATION$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "taglib-location" element
+     */
+    public void setTaglibLocation(java.lang.String taglibLocation)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(TAGLIBLOCATION$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(TAGLIBLOCATION$2);
+            }
+            target.setStringValue(taglibLocation);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "taglib-location" element
+     */
+    public void xsetTaglibLocation(com.sun.java.xml.ns.j2Ee.PathType taglibLocation)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(TAGLIBLOCATION$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(TAGLIBLOCATION$2);
+            }
+            target.set(taglibLocation);
+        }
+    }
+}
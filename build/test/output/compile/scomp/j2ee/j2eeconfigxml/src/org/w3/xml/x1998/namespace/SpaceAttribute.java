@@ -0,0 +1,213 @@
+/*
+ * An XML attribute type.
+ * Localname: space
+ * Namespace: http://www.w3.org/XML/1998/namespace
+ * Java type: org.w3.xml.x1998.namespace.SpaceAttribute
+ *
+ * Automatically generated - do not modify.
+ */
+package org.w3.xml.x1998.namespace;
+
+
+/**
+ * A document containing one space(@http://www.w3.org/XML/1998/namespace) attribute.
+ *
+ * This is a complex type.
+ */
+public interface SpaceAttribute extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(SpaceAttribute.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("space9344attrtypetype");
+    
+    /**
+     * Gets the "space" attribute
+     */
+    org.w3.xml.x1998.namespace.SpaceAttribute.Space.Enum getSpace();
+    
+    /**
+     * Gets (as xml) the "space" attribute
+     */
+    org.w3.xml.x1998.namespace.SpaceAttribute.Space xgetSpace();
+    
+    /**
+     * True if has "space" attribute
+     */
+    boolean isSetSpace();
+    
+    /**
+     * Sets the "space" attribute
+     */
+    void setSpace(org.w3.xml.x1998.namespace.SpaceAttribute.Space.Enum space);
+    
+    /**
+     * Sets (as xml) the "space" attribute
+     */
+    void xsetSpace(org.w3.xml.x1998.namespace.SpaceAttribute.Space space);
+    
+    /**
+     * Unsets the "space" attribute
+     */
+    void unsetSpace();
+    
+    /**
+     * An XML space(@http://www.w3.org/XML/1998/namespace).
+     *
+     * This is an atomic type that is a restriction of org.w3.xml.x1998.namespace.SpaceAttribute$Space.
+     */
+    public interface Space extends org.apache.xmlbeans.XmlNCName
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Space.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s46A513D40CA2FE8604E80E493A9A9AAD").resolveHandle("spaceb986attrtype");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum DEFAULT = Enum.forString("default");
+        static final Enum PRESERVE = Enum.forString("preserve");
+        
+        static final int INT_DEFAULT = Enum.INT_DEFAULT;
+        static final int INT_PRESERVE = Enum.INT_PRESERVE;
+        
+        /**
+         * Enumeration value class for org.w3.xml.x1998.namespace.SpaceAttribute$Space.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_DEFAULT
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_DEFAULT = 1;
+            static final int INT_PRESERVE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("default", INT_DEFAULT),
+                    new Enum("preserve", INT_PRESERVE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.w3.xml.x1998.namespace.SpaceAttribute.Space newValue(java.lang.Object obj) {
+              return (org.w3.xml.x1998.namespace.SpaceAttribute.Space) type.newValue( obj ); }
+            
+            public static org.w3.xml.x1998.namespace.SpaceAttribute.Space newInstance() {
+              return (org.w3.xml.x1998.namespace.SpaceAttribute.Space) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.w3.xml.x1998.namespace.SpaceAttribute.Space newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.w3.xml.x1998.namespace.SpaceAttribute.Space) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.w3.xml.x1998.namespace.SpaceAttribute newInstance() {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.w3.xml.x1998.namespace.SpaceAttribute parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.w3.xml.x1998.namespace.SpaceAttribute) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * XML Type:  purchaseOrder
+ * Namespace: methodsColide_jira205_278
+ * Java type: methodsColideJira205278.PurchaseOrder
+ *
+ * Automatically generated - do not modify.
+ */
+package methodsColideJira205278;
+
+
+/**
+ * An XML purchaseOrder(@methodsColide_jira205_278).
+ *
+ * This is a complex type.
+ */
+public interface PurchaseOrder extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PurchaseOrder.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s838AEA1A9D6CC839057D14C966EC7202").resolveHandle("purchaseorder6a1etype");
+    
+    /**
+     * Gets the "customer" element
+     */
+    methodsColideJira205278.Customer getCustomer();
+    
+    /**
+     * Sets the "customer" element
+     */
+    void setCustomer(methodsColideJira205278.Customer customer);
+    
+    /**
+     * Appends and returns a new empty "customer" element
+     */
+    methodsColideJira205278.Customer addNewCustomer();
+    
+    /**
+     * Gets the "date" element
+     */
+    java.util.Calendar getDate();
+    
+    /**
+     * Gets (as xml) the "date" element
+     */
+    org.apache.xmlbeans.XmlDateTime xgetDate();
+    
+    /**
+     * Sets the "date" element
+     */
+    void setDate(java.util.Calendar date);
+    
+    /**
+     * Sets (as xml) the "date" element
+     */
+    void xsetDate(org.apache.xmlbeans.XmlDateTime date);
+    
+    /**
+     * Gets array of all "line-item" elements
+     */
+    java.lang.String[] getLineItemArray();
+    
+    /**
+     * Gets ith "line-item" element
+     */
+    java.lang.String getLineItemArray(int i);
+    
+    /**
+     * Gets (as xml) array of all "line-item" elements
+     */
+    org.apache.xmlbeans.XmlString[] xgetLineItemArray();
+    
+    /**
+     * Gets (as xml) ith "line-item" element
+     */
+    org.apache.xmlbeans.XmlString xgetLineItemArray(int i);
+    
+    /**
+     * Returns number of "line-item" element
+     */
+    int sizeOfLineItemArray();
+    
+    /**
+     * Sets array of all "line-item" element
+     */
+    void setLineItemArray(java.lang.String[] lineItemArray);
+    
+    /**
+     * Sets ith "line-item" element
+     */
+    void setLineItemArray(int i, java.lang.String lineItem);
+    
+    /**
+     * Sets (as xml) array of all "line-item" element
+     */
+    void xsetLineItemArray(org.apache.xmlbeans.XmlString[] lineItemArray);
+    
+    /**
+     * Sets (as xml) ith "line-item" element
+     */
+    void xsetLineItemArray(int i, org.apache.xmlbeans.XmlString lineItem);
+    
+    /**
+     * Inserts the value as the ith "line-item" element
+     */
+    void insertLineItem(int i, java.lang.String lineItem);
+    
+    /**
+     * Appends the value as the last "line-item" element
+     */
+    void addLineItem(java.lang.String lineItem);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "line-item" element
+     */
+    org.apache.xmlbeans.XmlString insertNewLineItem(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "line-item" element
+     */
+    org.apache.xmlbeans.XmlString addNewLineItem();
+    
+    /**
+     * Removes the ith "line-item" element
+     */
+    void removeLineItem(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static methodsColideJira205278.PurchaseOrder newInstance() {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static methodsColideJira205278.PurchaseOrder parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static methodsColideJira205278.PurchaseOrder parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static methodsColideJira205278.PurchaseOrder parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static methodsColideJira205278.PurchaseOrder parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (methodsColideJira205278.PurchaseOrder) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
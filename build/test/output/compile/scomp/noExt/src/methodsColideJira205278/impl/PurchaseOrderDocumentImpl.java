@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: purchase-order
+ * Namespace: methodsColide_jira205_278
+ * Java type: methodsColideJira205278.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package methodsColideJira205278.impl;
+/**
+ * A document containing one purchase-order(@methodsColide_jira205_278) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements methodsColideJira205278.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("methodsColide_jira205_278", "purchase-order");
+    
+    
+    /**
+     * Gets the "purchase-order" element
+     */
+    public methodsColideJira205278.PurchaseOrder getPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            methodsColideJira205278.PurchaseOrder target = null;
+            target = (methodsColideJira205278.PurchaseOrder)get_store().find_element_user(PURCHASEORDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "purchase-order" element
+     */
+    public void setPurchaseOrder(methodsColideJira205278.PurchaseOrder purchaseOrder)
+    {
+        generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchase-order" element
+     */
+    public methodsColideJira205278.PurchaseOrder addNewPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            methodsColideJira205278.PurchaseOrder target = null;
+            target = (methodsColideJira205278.PurchaseOrder)get_store().add_element_user(PURCHASEORDER$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * XML Type:  purchaseOrder
+ * Namespace: methodsColide_jira205_278
+ * Java type: methodsColideJira205278.PurchaseOrder
+ *
+ * Automatically generated - do not modify.
+ */
+package methodsColideJira205278.impl;
+/**
+ * An XML purchaseOrder(@methodsColide_jira205_278).
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements methodsColideJira205278.PurchaseOrder
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName CUSTOMER$0 = 
+        new javax.xml.namespace.QName("methodsColide_jira205_278", "customer");
+    private static final javax.xml.namespace.QName DATE$2 = 
+        new javax.xml.namespace.QName("methodsColide_jira205_278", "date");
+    private static final javax.xml.namespace.QName LINEITEM$4 = 
+        new javax.xml.namespace.QName("methodsColide_jira205_278", "line-item");
+    
+    
+    /**
+     * Gets the "customer" element
+     */
+    public methodsColideJira205278.Customer getCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            methodsColideJira205278.Customer target = null;
+            target = (methodsColideJira205278.Customer)get_store().find_element_user(CUSTOMER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "customer" element
+     */
+    public void setCustomer(methodsColideJira205278.Customer customer)
+    {
+        generatedSetterHelperImpl(customer, CUSTOMER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "customer" element
+     */
+    public methodsColideJira205278.Customer addNewCustomer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            methodsColideJira205278.Customer target = null;
+            target = (methodsColideJira205278.Customer)get_store().add_element_user(CUSTOMER$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "date" element
+     */
+    public java.util.Calendar getDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "date" element
+     */
+    public org.apache.xmlbeans.XmlDateTime xgetDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "date" element
+     */
+    public void setDate(java.util.Calendar date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+            }
+            target.setCalendarValue(date);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "date" element
+     */
+    public void xsetDate(org.apache.xmlbeans.XmlDateTime date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(DATE$2);
+            }
+            target.set(date);
+        }
+    }
+    
+    /**
+     * Gets array of all "line-item" elements
+     */
+    public java.lang.String[] getLineItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LINEITEM$4, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "line-item" element
+     */
+    public java.lang.String getLineItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LINEITEM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "line-item" elements
+     */
+    public org.apache.xmlbeans.XmlString[] xgetLineItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LINEITEM$4, targetList);
+            org.apache.xmlbeans.XmlString[] result = new org.apache.xmlbeans.XmlString[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "line-item" element
+     */
+    public org.apache.xmlbeans.XmlString xgetLineItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LINEITEM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "line-item" element
+     */
+    public int sizeOfLineItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LINEITEM$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "line-item" element
+     */
+    public void setLineItemArray(java.lang.String[] lineItemArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(lineItemArray, LINEITEM$4);
+        }
+    }
+    
+    /**
+     * Sets ith "line-item" element
+     */
+    public void setLineItemArray(int i, java.lang.String lineItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LINEITEM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(lineItem);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "line-item" element
+     */
+    public void xsetLineItemArray(org.apache.xmlbeans.XmlString[]lineItemArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(lineItemArray, LINEITEM$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "line-item" element
+     */
+    public void xsetLineItemArray(int i, org.apache.xmlbeans.XmlString lineItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(LINEITEM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(lineItem);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "line-item" element
+     */
+    public void insertLineItem(int i, java.lang.String lineItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(LINEITEM$4, i);
+            target.setStringValue(lineItem);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "line-item" element
+     */
+    public void addLineItem(java.lang.String lineItem)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LINEITEM$4);
+            target.setStringValue(lineItem);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "line-item" element
+     */
+    public org.apache.xmlbeans.XmlString insertNewLineItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().insert_element_user(LINEITEM$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "line-item" element
+     */
+    public org.apache.xmlbeans.XmlString addNewLineItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(LINEITEM$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "line-item" element
+     */
+    public void removeLineItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LINEITEM$4, i);
+        }
+    }
+}
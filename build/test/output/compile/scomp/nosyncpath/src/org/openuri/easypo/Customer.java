@@ -0,0 +1,230 @@
+/*
+ * XML Type:  customer
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.Customer
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo;
+
+
+/**
+ * An XML customer(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public interface Customer extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Customer.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s046BD95D1B6D80A56516049201C6D449").resolveHandle("customer8571type");
+    
+    /**
+     * Gets the "name" element
+     */
+    java.lang.String getName();
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    org.apache.xmlbeans.XmlString xgetName();
+    
+    /**
+     * Sets the "name" element
+     */
+    void setName(java.lang.String name);
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    void xsetName(org.apache.xmlbeans.XmlString name);
+    
+    /**
+     * Gets the "address" element
+     */
+    java.lang.String getAddress();
+    
+    /**
+     * Gets (as xml) the "address" element
+     */
+    org.apache.xmlbeans.XmlString xgetAddress();
+    
+    /**
+     * Sets the "address" element
+     */
+    void setAddress(java.lang.String address);
+    
+    /**
+     * Sets (as xml) the "address" element
+     */
+    void xsetAddress(org.apache.xmlbeans.XmlString address);
+    
+    /**
+     * Gets the "age" attribute
+     */
+    int getAge();
+    
+    /**
+     * Gets (as xml) the "age" attribute
+     */
+    org.apache.xmlbeans.XmlInt xgetAge();
+    
+    /**
+     * True if has "age" attribute
+     */
+    boolean isSetAge();
+    
+    /**
+     * Sets the "age" attribute
+     */
+    void setAge(int age);
+    
+    /**
+     * Sets (as xml) the "age" attribute
+     */
+    void xsetAge(org.apache.xmlbeans.XmlInt age);
+    
+    /**
+     * Unsets the "age" attribute
+     */
+    void unsetAge();
+    
+    /**
+     * Gets the "moo" attribute
+     */
+    int getMoo();
+    
+    /**
+     * Gets (as xml) the "moo" attribute
+     */
+    org.apache.xmlbeans.XmlInt xgetMoo();
+    
+    /**
+     * True if has "moo" attribute
+     */
+    boolean isSetMoo();
+    
+    /**
+     * Sets the "moo" attribute
+     */
+    void setMoo(int moo);
+    
+    /**
+     * Sets (as xml) the "moo" attribute
+     */
+    void xsetMoo(org.apache.xmlbeans.XmlInt moo);
+    
+    /**
+     * Unsets the "moo" attribute
+     */
+    void unsetMoo();
+    
+    /**
+     * Gets the "poo" attribute
+     */
+    int getPoo();
+    
+    /**
+     * Gets (as xml) the "poo" attribute
+     */
+    org.apache.xmlbeans.XmlInt xgetPoo();
+    
+    /**
+     * True if has "poo" attribute
+     */
+    boolean isSetPoo();
+    
+    /**
+     * Sets the "poo" attribute
+     */
+    void setPoo(int poo);
+    
+    /**
+     * Sets (as xml) the "poo" attribute
+     */
+    void xsetPoo(org.apache.xmlbeans.XmlInt poo);
+    
+    /**
+     * Unsets the "poo" attribute
+     */
+    void unsetPoo();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.openuri.easypo.Customer newInstance() {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.openuri.easypo.Customer newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.openuri.easypo.Customer parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.openuri.easypo.Customer parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.openuri.easypo.Customer parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.openuri.easypo.Customer parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.openuri.easypo.Customer parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.openuri.easypo.Customer parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.openuri.easypo.Customer parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.openuri.easypo.Customer parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        @Deprecated
+        public static org.openuri.easypo.Customer parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        @Deprecated
+        public static org.openuri.easypo.Customer parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.openuri.easypo.Customer) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        @Deprecated
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        @Deprecated
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
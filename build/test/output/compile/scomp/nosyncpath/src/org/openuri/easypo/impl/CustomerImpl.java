@@ -0,0 +1,698 @@
+/*
+ * XML Type:  customer
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.Customer
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo.impl;
+/**
+ * An XML customer(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public class CustomerImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.Customer
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CustomerImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "name");
+    private static final javax.xml.namespace.QName ADDRESS$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "address");
+    private static final javax.xml.namespace.QName AGE$4 = 
+        new javax.xml.namespace.QName("", "age");
+    private static final javax.xml.namespace.QName MOO$6 = 
+        new javax.xml.namespace.QName("", "moo");
+    private static final javax.xml.namespace.QName POO$8 = 
+        new javax.xml.namespace.QName("", "poo");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1147692044:
+                if (name.equals(ADDRESS$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        if (preCheck())
+            return getName$impl();
+        else synchronized (monitor())
+        {
+            return getName$impl();
+        }
+    }
+    
+    private java.lang.String getName$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getStringValue();
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        if (preCheck())
+            return xgetName$impl();
+        else synchronized (monitor())
+        {
+            return xgetName$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlString xgetName$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        if (preCheck())
+            setName$impl(name);
+        else synchronized (monitor())
+        {
+            setName$impl(name);
+        }
+    }
+    
+    private void setName$impl(java.lang.String name)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+        }
+        target.setStringValue(name);
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        if (preCheck())
+            xsetName$impl(name);
+        else synchronized (monitor())
+        {
+            xsetName$impl(name);
+        }
+    }
+    
+    private void xsetName$impl(org.apache.xmlbeans.XmlString name)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+        }
+        target.set(name);
+    }
+    
+    /**
+     * Gets the "address" element
+     */
+    public java.lang.String getAddress()
+    {
+        if (preCheck())
+            return getAddress$impl();
+        else synchronized (monitor())
+        {
+            return getAddress$impl();
+        }
+    }
+    
+    private java.lang.String getAddress$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADDRESS$2, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getStringValue();
+    }
+    
+    /**
+     * Gets (as xml) the "address" element
+     */
+    public org.apache.xmlbeans.XmlString xgetAddress()
+    {
+        if (preCheck())
+            return xgetAddress$impl();
+        else synchronized (monitor())
+        {
+            return xgetAddress$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlString xgetAddress$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ADDRESS$2, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "address" element
+     */
+    public void setAddress(java.lang.String address)
+    {
+        if (preCheck())
+            setAddress$impl(address);
+        else synchronized (monitor())
+        {
+            setAddress$impl(address);
+        }
+    }
+    
+    private void setAddress$impl(java.lang.String address)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ADDRESS$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ADDRESS$2);
+        }
+        target.setStringValue(address);
+    }
+    
+    /**
+     * Sets (as xml) the "address" element
+     */
+    public void xsetAddress(org.apache.xmlbeans.XmlString address)
+    {
+        if (preCheck())
+            xsetAddress$impl(address);
+        else synchronized (monitor())
+        {
+            xsetAddress$impl(address);
+        }
+    }
+    
+    private void xsetAddress$impl(org.apache.xmlbeans.XmlString address)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ADDRESS$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ADDRESS$2);
+        }
+        target.set(address);
+    }
+    
+    /**
+     * Gets the "age" attribute
+     */
+    public int getAge()
+    {
+        if (preCheck())
+            return getAge$impl();
+        else synchronized (monitor())
+        {
+            return getAge$impl();
+        }
+    }
+    
+    private int getAge$impl()
+    {
+        check_orphaned();
+        java.lang.CharSequence text = get_store().find_attribute_chars(AGE$4, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+        if (text != null)
+        {
+            try
+            {
+                return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+            }
+            catch (java.lang.RuntimeException e)
+            {
+                // not a valid value, the error comes from the target
+            }
+        }
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(AGE$4);
+        if (target == null)
+        {
+            return 0;
+        }
+        return target.getIntValue();
+    }
+    
+    /**
+     * Gets (as xml) the "age" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetAge()
+    {
+        if (preCheck())
+            return xgetAge$impl();
+        else synchronized (monitor())
+        {
+            return xgetAge$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlInt xgetAge$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(AGE$4);
+        return target;
+    }
+    
+    /**
+     * True if has "age" attribute
+     */
+    public boolean isSetAge()
+    {
+        if (preCheck())
+            return isSetAge$impl();
+        else synchronized (monitor())
+        {
+            return isSetAge$impl();
+        }
+    }
+    
+    private boolean isSetAge$impl()
+    {
+        check_orphaned();
+        return get_store().find_attribute_user(AGE$4) != null;
+    }
+    
+    /**
+     * Sets the "age" attribute
+     */
+    public void setAge(int age)
+    {
+        if (preCheck())
+            setAge$impl(age);
+        else synchronized (monitor())
+        {
+            setAge$impl(age);
+        }
+    }
+    
+    private void setAge$impl(int age)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(AGE$4);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(AGE$4);
+        }
+        target.setIntValue(age);
+    }
+    
+    /**
+     * Sets (as xml) the "age" attribute
+     */
+    public void xsetAge(org.apache.xmlbeans.XmlInt age)
+    {
+        if (preCheck())
+            xsetAge$impl(age);
+        else synchronized (monitor())
+        {
+            xsetAge$impl(age);
+        }
+    }
+    
+    private void xsetAge$impl(org.apache.xmlbeans.XmlInt age)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(AGE$4);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(AGE$4);
+        }
+        target.set(age);
+    }
+    
+    /**
+     * Unsets the "age" attribute
+     */
+    public void unsetAge()
+    {
+        if (preCheck())
+            unsetAge$impl();
+        else synchronized (monitor())
+        {
+            unsetAge$impl();
+        }
+    }
+    
+    private void unsetAge$impl()
+    {
+        check_orphaned();
+        get_store().remove_attribute(AGE$4);
+    }
+    
+    /**
+     * Gets the "moo" attribute
+     */
+    public int getMoo()
+    {
+        if (preCheck())
+            return getMoo$impl();
+        else synchronized (monitor())
+        {
+            return getMoo$impl();
+        }
+    }
+    
+    private int getMoo$impl()
+    {
+        check_orphaned();
+        java.lang.CharSequence text = get_store().find_attribute_chars(MOO$6, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+        if (text != null)
+        {
+            try
+            {
+                return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+            }
+            catch (java.lang.RuntimeException e)
+            {
+                // not a valid value, the error comes from the target
+            }
+        }
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(MOO$6);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(MOO$6);
+        }
+        if (target == null)
+        {
+            return 0;
+        }
+        return target.getIntValue();
+    }
+    
+    /**
+     * Gets (as xml) the "moo" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetMoo()
+    {
+        if (preCheck())
+            return xgetMoo$impl();
+        else synchronized (monitor())
+        {
+            return xgetMoo$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlInt xgetMoo$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(MOO$6);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(MOO$6);
+        }
+        return target;
+    }
+    
+    /**
+     * True if has "moo" attribute
+     */
+    public boolean isSetMoo()
+    {
+        if (preCheck())
+            return isSetMoo$impl();
+        else synchronized (monitor())
+        {
+            return isSetMoo$impl();
+        }
+    }
+    
+    private boolean isSetMoo$impl()
+    {
+        check_orphaned();
+        return get_store().find_attribute_user(MOO$6) != null;
+    }
+    
+    /**
+     * Sets the "moo" attribute
+     */
+    public void setMoo(int moo)
+    {
+        if (preCheck())
+            setMoo$impl(moo);
+        else synchronized (monitor())
+        {
+            setMoo$impl(moo);
+        }
+    }
+    
+    private void setMoo$impl(int moo)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(MOO$6);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(MOO$6);
+        }
+        target.setIntValue(moo);
+    }
+    
+    /**
+     * Sets (as xml) the "moo" attribute
+     */
+    public void xsetMoo(org.apache.xmlbeans.XmlInt moo)
+    {
+        if (preCheck())
+            xsetMoo$impl(moo);
+        else synchronized (monitor())
+        {
+            xsetMoo$impl(moo);
+        }
+    }
+    
+    private void xsetMoo$impl(org.apache.xmlbeans.XmlInt moo)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(MOO$6);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(MOO$6);
+        }
+        target.set(moo);
+    }
+    
+    /**
+     * Unsets the "moo" attribute
+     */
+    public void unsetMoo()
+    {
+        if (preCheck())
+            unsetMoo$impl();
+        else synchronized (monitor())
+        {
+            unsetMoo$impl();
+        }
+    }
+    
+    private void unsetMoo$impl()
+    {
+        check_orphaned();
+        get_store().remove_attribute(MOO$6);
+    }
+    
+    /**
+     * Gets the "poo" attribute
+     */
+    public int getPoo()
+    {
+        if (preCheck())
+            return getPoo$impl();
+        else synchronized (monitor())
+        {
+            return getPoo$impl();
+        }
+    }
+    
+    private int getPoo$impl()
+    {
+        check_orphaned();
+        java.lang.CharSequence text = get_store().find_attribute_chars(POO$8, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+        if (text != null)
+        {
+            try
+            {
+                return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+            }
+            catch (java.lang.RuntimeException e)
+            {
+                // not a valid value, the error comes from the target
+            }
+        }
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(POO$8);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(POO$8);
+        }
+        if (target == null)
+        {
+            return 0;
+        }
+        return target.getIntValue();
+    }
+    
+    /**
+     * Gets (as xml) the "poo" attribute
+     */
+    public org.apache.xmlbeans.XmlInt xgetPoo()
+    {
+        if (preCheck())
+            return xgetPoo$impl();
+        else synchronized (monitor())
+        {
+            return xgetPoo$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlInt xgetPoo$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(POO$8);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(POO$8);
+        }
+        return target;
+    }
+    
+    /**
+     * True if has "poo" attribute
+     */
+    public boolean isSetPoo()
+    {
+        if (preCheck())
+            return isSetPoo$impl();
+        else synchronized (monitor())
+        {
+            return isSetPoo$impl();
+        }
+    }
+    
+    private boolean isSetPoo$impl()
+    {
+        check_orphaned();
+        return get_store().find_attribute_user(POO$8) != null;
+    }
+    
+    /**
+     * Sets the "poo" attribute
+     */
+    public void setPoo(int poo)
+    {
+        if (preCheck())
+            setPoo$impl(poo);
+        else synchronized (monitor())
+        {
+            setPoo$impl(poo);
+        }
+    }
+    
+    private void setPoo$impl(int poo)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(POO$8);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(POO$8);
+        }
+        target.setIntValue(poo);
+    }
+    
+    /**
+     * Sets (as xml) the "poo" attribute
+     */
+    public void xsetPoo(org.apache.xmlbeans.XmlInt poo)
+    {
+        if (preCheck())
+            xsetPoo$impl(poo);
+        else synchronized (monitor())
+        {
+            xsetPoo$impl(poo);
+        }
+    }
+    
+    private void xsetPoo$impl(org.apache.xmlbeans.XmlInt poo)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInt target = null;
+        target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(POO$8);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(POO$8);
+        }
+        target.set(poo);
+    }
+    
+    /**
+     * Unsets the "poo" attribute
+     */
+    public void unsetPoo()
+    {
+        if (preCheck())
+            unsetPoo$impl();
+        else synchronized (monitor())
+        {
+            unsetPoo$impl();
+        }
+    }
+    
+    private void unsetPoo$impl()
+    {
+        check_orphaned();
+        get_store().remove_attribute(POO$8);
+    }
+}
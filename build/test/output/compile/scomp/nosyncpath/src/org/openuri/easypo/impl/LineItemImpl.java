@@ -0,0 +1,442 @@
+/*
+ * XML Type:  line-item
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.LineItem
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo.impl;
+/**
+ * An XML line-item(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public class LineItemImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.LineItem
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LineItemImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "description");
+    private static final javax.xml.namespace.QName PERUNITOUNCES$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "per-unit-ounces");
+    private static final javax.xml.namespace.QName PRICE$4 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "price");
+    private static final javax.xml.namespace.QName QUANTITY$6 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "quantity");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1285004149:
+                if (name.equals(QUANTITY$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -205078590:
+                if (name.equals(PERUNITOUNCES$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 106934601:
+                if (name.equals(PRICE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "description" element
+     */
+    public java.lang.String getDescription()
+    {
+        if (preCheck())
+            return getDescription$impl();
+        else synchronized (monitor())
+        {
+            return getDescription$impl();
+        }
+    }
+    
+    private java.lang.String getDescription$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getStringValue();
+    }
+    
+    /**
+     * Gets (as xml) the "description" element
+     */
+    public org.apache.xmlbeans.XmlString xgetDescription()
+    {
+        if (preCheck())
+            return xgetDescription$impl();
+        else synchronized (monitor())
+        {
+            return xgetDescription$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlString xgetDescription$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(java.lang.String description)
+    {
+        if (preCheck())
+            setDescription$impl(description);
+        else synchronized (monitor())
+        {
+            setDescription$impl(description);
+        }
+    }
+    
+    private void setDescription$impl(java.lang.String description)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DESCRIPTION$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DESCRIPTION$0);
+        }
+        target.setStringValue(description);
+    }
+    
+    /**
+     * Sets (as xml) the "description" element
+     */
+    public void xsetDescription(org.apache.xmlbeans.XmlString description)
+    {
+        if (preCheck())
+            xsetDescription$impl(description);
+        else synchronized (monitor())
+        {
+            xsetDescription$impl(description);
+        }
+    }
+    
+    private void xsetDescription$impl(org.apache.xmlbeans.XmlString description)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DESCRIPTION$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DESCRIPTION$0);
+        }
+        target.set(description);
+    }
+    
+    /**
+     * Gets the "per-unit-ounces" element
+     */
+    public java.math.BigDecimal getPerUnitOunces()
+    {
+        if (preCheck())
+            return getPerUnitOunces$impl();
+        else synchronized (monitor())
+        {
+            return getPerUnitOunces$impl();
+        }
+    }
+    
+    private java.math.BigDecimal getPerUnitOunces$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PERUNITOUNCES$2, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getBigDecimalValue();
+    }
+    
+    /**
+     * Gets (as xml) the "per-unit-ounces" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetPerUnitOunces()
+    {
+        if (preCheck())
+            return xgetPerUnitOunces$impl();
+        else synchronized (monitor())
+        {
+            return xgetPerUnitOunces$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlDecimal xgetPerUnitOunces$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PERUNITOUNCES$2, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "per-unit-ounces" element
+     */
+    public void setPerUnitOunces(java.math.BigDecimal perUnitOunces)
+    {
+        if (preCheck())
+            setPerUnitOunces$impl(perUnitOunces);
+        else synchronized (monitor())
+        {
+            setPerUnitOunces$impl(perUnitOunces);
+        }
+    }
+    
+    private void setPerUnitOunces$impl(java.math.BigDecimal perUnitOunces)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PERUNITOUNCES$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PERUNITOUNCES$2);
+        }
+        target.setBigDecimalValue(perUnitOunces);
+    }
+    
+    /**
+     * Sets (as xml) the "per-unit-ounces" element
+     */
+    public void xsetPerUnitOunces(org.apache.xmlbeans.XmlDecimal perUnitOunces)
+    {
+        if (preCheck())
+            xsetPerUnitOunces$impl(perUnitOunces);
+        else synchronized (monitor())
+        {
+            xsetPerUnitOunces$impl(perUnitOunces);
+        }
+    }
+    
+    private void xsetPerUnitOunces$impl(org.apache.xmlbeans.XmlDecimal perUnitOunces)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PERUNITOUNCES$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(PERUNITOUNCES$2);
+        }
+        target.set(perUnitOunces);
+    }
+    
+    /**
+     * Gets the "price" element
+     */
+    public java.math.BigDecimal getPrice()
+    {
+        if (preCheck())
+            return getPrice$impl();
+        else synchronized (monitor())
+        {
+            return getPrice$impl();
+        }
+    }
+    
+    private java.math.BigDecimal getPrice$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRICE$4, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getBigDecimalValue();
+    }
+    
+    /**
+     * Gets (as xml) the "price" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetPrice()
+    {
+        if (preCheck())
+            return xgetPrice$impl();
+        else synchronized (monitor())
+        {
+            return xgetPrice$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlDecimal xgetPrice$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PRICE$4, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "price" element
+     */
+    public void setPrice(java.math.BigDecimal price)
+    {
+        if (preCheck())
+            setPrice$impl(price);
+        else synchronized (monitor())
+        {
+            setPrice$impl(price);
+        }
+    }
+    
+    private void setPrice$impl(java.math.BigDecimal price)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRICE$4, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRICE$4);
+        }
+        target.setBigDecimalValue(price);
+    }
+    
+    /**
+     * Sets (as xml) the "price" element
+     */
+    public void xsetPrice(org.apache.xmlbeans.XmlDecimal price)
+    {
+        if (preCheck())
+            xsetPrice$impl(price);
+        else synchronized (monitor())
+        {
+            xsetPrice$impl(price);
+        }
+    }
+    
+    private void xsetPrice$impl(org.apache.xmlbeans.XmlDecimal price)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PRICE$4, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(PRICE$4);
+        }
+        target.set(price);
+    }
+    
+    /**
+     * Gets the "quantity" element
+     */
+    public java.math.BigInteger getQuantity()
+    {
+        if (preCheck())
+            return getQuantity$impl();
+        else synchronized (monitor())
+        {
+            return getQuantity$impl();
+        }
+    }
+    
+    private java.math.BigInteger getQuantity$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$6, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getBigIntegerValue();
+    }
+    
+    /**
+     * Gets (as xml) the "quantity" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetQuantity()
+    {
+        if (preCheck())
+            return xgetQuantity$impl();
+        else synchronized (monitor())
+        {
+            return xgetQuantity$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlInteger xgetQuantity$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInteger target = null;
+        target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(QUANTITY$6, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "quantity" element
+     */
+    public void setQuantity(java.math.BigInteger quantity)
+    {
+        if (preCheck())
+            setQuantity$impl(quantity);
+        else synchronized (monitor())
+        {
+            setQuantity$impl(quantity);
+        }
+    }
+    
+    private void setQuantity$impl(java.math.BigInteger quantity)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$6, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QUANTITY$6);
+        }
+        target.setBigIntegerValue(quantity);
+    }
+    
+    /**
+     * Sets (as xml) the "quantity" element
+     */
+    public void xsetQuantity(org.apache.xmlbeans.XmlInteger quantity)
+    {
+        if (preCheck())
+            xsetQuantity$impl(quantity);
+        else synchronized (monitor())
+        {
+            xsetQuantity$impl(quantity);
+        }
+    }
+    
+    private void xsetQuantity$impl(org.apache.xmlbeans.XmlInteger quantity)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlInteger target = null;
+        target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(QUANTITY$6, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(QUANTITY$6);
+        }
+        target.set(quantity);
+    }
+}
@@ -0,0 +1,578 @@
+/*
+ * An XML document type.
+ * Localname: purchase-order
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo.impl;
+/**
+ * A document containing one purchase-order(@http://openuri.org/easypo) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "purchase-order");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 475208578:
+                if (name.equals(PURCHASEORDER$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "purchase-order" element
+     */
+    public org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder getPurchaseOrder()
+    {
+        if (preCheck())
+            return getPurchaseOrder$impl();
+        else synchronized (monitor())
+        {
+            return getPurchaseOrder$impl();
+        }
+    }
+    
+    private org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder getPurchaseOrder$impl()
+    {
+        check_orphaned();
+        org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder target = null;
+        target = (org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder)get_store().find_element_user(PURCHASEORDER$0, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target;
+    }
+    
+    /**
+     * Sets the "purchase-order" element
+     */
+    public void setPurchaseOrder(org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder purchaseOrder)
+    {
+        generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchase-order" element
+     */
+    public org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder addNewPurchaseOrder()
+    {
+        if (preCheck())
+            return addNewPurchaseOrder$impl();
+        else synchronized (monitor())
+        {
+            return addNewPurchaseOrder$impl();
+        }
+    }
+    
+    private org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder addNewPurchaseOrder$impl()
+    {
+        check_orphaned();
+        org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder target = null;
+        target = (org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder)get_store().add_element_user(PURCHASEORDER$0);
+        return target;
+    }
+    /**
+     * An XML purchase-order(@http://openuri.org/easypo).
+     *
+     * This is a complex type.
+     */
+    public static class PurchaseOrderImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PurchaseOrderImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName CUSTOMER$0 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "customer");
+        private static final javax.xml.namespace.QName DATE$2 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "date");
+        private static final javax.xml.namespace.QName LINEITEM$4 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "line-item");
+        private static final javax.xml.namespace.QName SHIPPER$6 = 
+            new javax.xml.namespace.QName("http://openuri.org/easypo", "shipper");
+        
+        private static final int ORDINAL$BASE = new_element_ordinals(4);
+        
+        public int get_element_ordinal(javax.xml.namespace.QName name)
+        {
+            switch (name.getLocalPart().hashCode())
+            {
+                case -1842559668:
+                    if (name.equals(LINEITEM$4))
+                        return ORDINAL$BASE + 2;
+                    break;
+                case 3076014:
+                    if (name.equals(DATE$2))
+                        return ORDINAL$BASE + 1;
+                    break;
+                case 606175198:
+                    if (name.equals(CUSTOMER$0))
+                        return ORDINAL$BASE + 0;
+                    break;
+                case 2061557089:
+                    if (name.equals(SHIPPER$6))
+                        return ORDINAL$BASE + 3;
+                    break;
+            }
+            return super.get_element_ordinal(name);
+        }
+        
+        
+        /**
+         * Gets the "customer" element
+         */
+        public org.openuri.easypo.Customer getCustomer()
+        {
+            if (preCheck())
+                return getCustomer$impl();
+            else synchronized (monitor())
+            {
+                return getCustomer$impl();
+            }
+        }
+        
+        private org.openuri.easypo.Customer getCustomer$impl()
+        {
+            check_orphaned();
+            org.openuri.easypo.Customer target = null;
+            target = (org.openuri.easypo.Customer)get_store().find_element_user(CUSTOMER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+        
+        /**
+         * Sets the "customer" element
+         */
+        public void setCustomer(org.openuri.easypo.Customer customer)
+        {
+            generatedSetterHelperImpl(customer, CUSTOMER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "customer" element
+         */
+        public org.openuri.easypo.Customer addNewCustomer()
+        {
+            if (preCheck())
+                return addNewCustomer$impl();
+            else synchronized (monitor())
+            {
+                return addNewCustomer$impl();
+            }
+        }
+        
+        private org.openuri.easypo.Customer addNewCustomer$impl()
+        {
+            check_orphaned();
+            org.openuri.easypo.Customer target = null;
+            target = (org.openuri.easypo.Customer)get_store().add_element_user(CUSTOMER$0);
+            return target;
+        }
+        
+        /**
+         * Gets the "date" element
+         */
+        public java.util.Calendar getDate()
+        {
+            if (preCheck())
+                return getDate$impl();
+            else synchronized (monitor())
+            {
+                return getDate$impl();
+            }
+        }
+        
+        private java.util.Calendar getDate$impl()
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+        
+        /**
+         * Gets (as xml) the "date" element
+         */
+        public org.apache.xmlbeans.XmlDateTime xgetDate()
+        {
+            if (preCheck())
+                return xgetDate$impl();
+            else synchronized (monitor())
+            {
+                return xgetDate$impl();
+            }
+        }
+        
+        private org.apache.xmlbeans.XmlDateTime xgetDate$impl()
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+            return target;
+        }
+        
+        /**
+         * Sets the "date" element
+         */
+        public void setDate(java.util.Calendar date)
+        {
+            if (preCheck())
+                setDate$impl(date);
+            else synchronized (monitor())
+            {
+                setDate$impl(date);
+            }
+        }
+        
+        private void setDate$impl(java.util.Calendar date)
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DATE$2);
+            }
+            target.setCalendarValue(date);
+        }
+        
+        /**
+         * Sets (as xml) the "date" element
+         */
+        public void xsetDate(org.apache.xmlbeans.XmlDateTime date)
+        {
+            if (preCheck())
+                xsetDate$impl(date);
+            else synchronized (monitor())
+            {
+                xsetDate$impl(date);
+            }
+        }
+        
+        private void xsetDate$impl(org.apache.xmlbeans.XmlDateTime date)
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDateTime target = null;
+            target = (org.apache.xmlbeans.XmlDateTime)get_store().find_element_user(DATE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlDateTime)get_store().add_element_user(DATE$2);
+            }
+            target.set(date);
+        }
+        
+        /**
+         * Gets a List of "line-item" elements
+         */
+        public java.util.List<org.openuri.easypo.LineItem> getLineItemList()
+        {
+            final class LineItemList extends java.util.AbstractList<org.openuri.easypo.LineItem>
+            {
+                @Override
+                public org.openuri.easypo.LineItem get(int i)
+                    { return PurchaseOrderImpl.this.getLineItemArray(i); }
+                
+                @Override
+                public org.openuri.easypo.LineItem set(int i, org.openuri.easypo.LineItem o)
+                {
+                    org.openuri.easypo.LineItem old = PurchaseOrderImpl.this.getLineItemArray(i);
+                    PurchaseOrderImpl.this.setLineItemArray(i, o);
+                    return old;
+                }
+                
+                @Override
+                public void add(int i, org.openuri.easypo.LineItem o)
+                    { PurchaseOrderImpl.this.insertNewLineItem(i).set(o); }
+                
+                @Override
+                public org.openuri.easypo.LineItem remove(int i)
+                {
+                    org.openuri.easypo.LineItem old = PurchaseOrderImpl.this.getLineItemArray(i);
+                    PurchaseOrderImpl.this.removeLineItem(i);
+                    return old;
+                }
+                
+                @Override
+                public int size()
+                    { return PurchaseOrderImpl.this.sizeOfLineItemArray(); }
+                
+            }
+            
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return new LineItemList();
+            }
+        }
+        
+        /**
+         * Gets array of all "line-item" elements
+         * @deprecated
+         */
+        @Deprecated
+        public org.openuri.easypo.LineItem[] getLineItemArray()
+        {
+            if (preCheck())
+                return getLineItemArray$impl();
+            else synchronized (monitor())
+            {
+                return getLineItemArray$impl();
+            }
+        }
+        
+        private org.openuri.easypo.LineItem[] getLineItemArray$impl()
+        {
+            check_orphaned();
+            java.util.List<org.openuri.easypo.LineItem> targetList = new java.util.ArrayList<org.openuri.easypo.LineItem>();
+            get_store().find_all_element_users(LINEITEM$4, targetList);
+            org.openuri.easypo.LineItem[] result = new org.openuri.easypo.LineItem[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+        
+        /**
+         * Gets ith "line-item" element
+         */
+        public org.openuri.easypo.LineItem getLineItemArray(int i)
+        {
+            if (preCheck())
+                return getLineItemArray$impl(i);
+            else synchronized (monitor())
+            {
+                return getLineItemArray$impl(i);
+            }
+        }
+        
+        private org.openuri.easypo.LineItem getLineItemArray$impl(int i)
+        {
+            check_orphaned();
+            org.openuri.easypo.LineItem target = null;
+            target = (org.openuri.easypo.LineItem)get_store().find_element_user(LINEITEM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+        
+        /**
+         * Returns number of "line-item" element
+         */
+        public int sizeOfLineItemArray()
+        {
+            if (preCheck())
+                return sizeOfLineItemArray$impl();
+            else synchronized (monitor())
+            {
+                return sizeOfLineItemArray$impl();
+            }
+        }
+        
+        private int sizeOfLineItemArray$impl()
+        {
+            check_orphaned();
+            return get_store().count_elements(LINEITEM$4);
+        }
+        
+        /**
+         * Sets array of all "line-item" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setLineItemArray(org.openuri.easypo.LineItem[] lineItemArray)
+        {
+            check_orphaned();
+            arraySetterHelper(lineItemArray, LINEITEM$4);
+        }
+        
+        /**
+         * Sets ith "line-item" element
+         */
+        public void setLineItemArray(int i, org.openuri.easypo.LineItem lineItem)
+        {
+            generatedSetterHelperImpl(lineItem, LINEITEM$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "line-item" element
+         */
+        public org.openuri.easypo.LineItem insertNewLineItem(int i)
+        {
+            if (preCheck())
+                return insertNewLineItem$impl(i);
+            else synchronized (monitor())
+            {
+                return insertNewLineItem$impl(i);
+            }
+        }
+        
+        private org.openuri.easypo.LineItem insertNewLineItem$impl(int i)
+        {
+            check_orphaned();
+            org.openuri.easypo.LineItem target = null;
+            target = (org.openuri.easypo.LineItem)get_store().insert_element_user(LINEITEM$4, i);
+            return target;
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "line-item" element
+         */
+        public org.openuri.easypo.LineItem addNewLineItem()
+        {
+            if (preCheck())
+                return addNewLineItem$impl();
+            else synchronized (monitor())
+            {
+                return addNewLineItem$impl();
+            }
+        }
+        
+        private org.openuri.easypo.LineItem addNewLineItem$impl()
+        {
+            check_orphaned();
+            org.openuri.easypo.LineItem target = null;
+            target = (org.openuri.easypo.LineItem)get_store().add_element_user(LINEITEM$4);
+            return target;
+        }
+        
+        /**
+         * Removes the ith "line-item" element
+         */
+        public void removeLineItem(int i)
+        {
+            if (preCheck())
+                removeLineItem$impl(i);
+            else synchronized (monitor())
+            {
+                removeLineItem$impl(i);
+            }
+        }
+        
+        private void removeLineItem$impl(int i)
+        {
+            check_orphaned();
+            get_store().remove_element(LINEITEM$4, i);
+        }
+        
+        /**
+         * Gets the "shipper" element
+         */
+        public org.openuri.easypo.Shipper getShipper()
+        {
+            if (preCheck())
+                return getShipper$impl();
+            else synchronized (monitor())
+            {
+                return getShipper$impl();
+            }
+        }
+        
+        private org.openuri.easypo.Shipper getShipper$impl()
+        {
+            check_orphaned();
+            org.openuri.easypo.Shipper target = null;
+            target = (org.openuri.easypo.Shipper)get_store().find_element_user(SHIPPER$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+        
+        /**
+         * True if has "shipper" element
+         */
+        public boolean isSetShipper()
+        {
+            if (preCheck())
+                return isSetShipper$impl();
+            else synchronized (monitor())
+            {
+                return isSetShipper$impl();
+            }
+        }
+        
+        private boolean isSetShipper$impl()
+        {
+            check_orphaned();
+            return get_store().count_elements(SHIPPER$6) != 0;
+        }
+        
+        /**
+         * Sets the "shipper" element
+         */
+        public void setShipper(org.openuri.easypo.Shipper shipper)
+        {
+            generatedSetterHelperImpl(shipper, SHIPPER$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "shipper" element
+         */
+        public org.openuri.easypo.Shipper addNewShipper()
+        {
+            if (preCheck())
+                return addNewShipper$impl();
+            else synchronized (monitor())
+            {
+                return addNewShipper$impl();
+            }
+        }
+        
+        private org.openuri.easypo.Shipper addNewShipper$impl()
+        {
+            check_orphaned();
+            org.openuri.easypo.Shipper target = null;
+            target = (org.openuri.easypo.Shipper)get_store().add_element_user(SHIPPER$6);
+            return target;
+        }
+        
+        /**
+         * Unsets the "shipper" element
+         */
+        public void unsetShipper()
+        {
+            if (preCheck())
+                unsetShipper$impl();
+            else synchronized (monitor())
+            {
+                unsetShipper$impl();
+            }
+        }
+        
+        private void unsetShipper$impl()
+        {
+            check_orphaned();
+            get_store().remove_element(SHIPPER$6, 0);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * XML Type:  shipper
+ * Namespace: http://openuri.org/easypo
+ * Java type: org.openuri.easypo.Shipper
+ *
+ * Automatically generated - do not modify.
+ */
+package org.openuri.easypo.impl;
+/**
+ * An XML shipper(@http://openuri.org/easypo).
+ *
+ * This is a complex type.
+ */
+public class ShipperImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.openuri.easypo.Shipper
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ShipperImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NAME$0 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "name");
+    private static final javax.xml.namespace.QName PEROUNCERATE$2 = 
+        new javax.xml.namespace.QName("http://openuri.org/easypo", "per-ounce-rate");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -101009965:
+                if (name.equals(PEROUNCERATE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 3373707:
+                if (name.equals(NAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName()
+    {
+        if (preCheck())
+            return getName$impl();
+        else synchronized (monitor())
+        {
+            return getName$impl();
+        }
+    }
+    
+    private java.lang.String getName$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getStringValue();
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName()
+    {
+        if (preCheck())
+            return xgetName$impl();
+        else synchronized (monitor())
+        {
+            return xgetName$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlString xgetName$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName(java.lang.String name)
+    {
+        if (preCheck())
+            setName$impl(name);
+        else synchronized (monitor())
+        {
+            setName$impl(name);
+        }
+    }
+    
+    private void setName$impl(java.lang.String name)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME$0);
+        }
+        target.setStringValue(name);
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName(org.apache.xmlbeans.XmlString name)
+    {
+        if (preCheck())
+            xsetName$impl(name);
+        else synchronized (monitor())
+        {
+            xsetName$impl(name);
+        }
+    }
+    
+    private void xsetName$impl(org.apache.xmlbeans.XmlString name)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlString target = null;
+        target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME$0, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME$0);
+        }
+        target.set(name);
+    }
+    
+    /**
+     * Gets the "per-ounce-rate" element
+     */
+    public java.math.BigDecimal getPerOunceRate()
+    {
+        if (preCheck())
+            return getPerOunceRate$impl();
+        else synchronized (monitor())
+        {
+            return getPerOunceRate$impl();
+        }
+    }
+    
+    private java.math.BigDecimal getPerOunceRate$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PEROUNCERATE$2, 0);
+        if (target == null)
+        {
+            return null;
+        }
+        return target.getBigDecimalValue();
+    }
+    
+    /**
+     * Gets (as xml) the "per-ounce-rate" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetPerOunceRate()
+    {
+        if (preCheck())
+            return xgetPerOunceRate$impl();
+        else synchronized (monitor())
+        {
+            return xgetPerOunceRate$impl();
+        }
+    }
+    
+    private org.apache.xmlbeans.XmlDecimal xgetPerOunceRate$impl()
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PEROUNCERATE$2, 0);
+        return target;
+    }
+    
+    /**
+     * Sets the "per-ounce-rate" element
+     */
+    public void setPerOunceRate(java.math.BigDecimal perOunceRate)
+    {
+        if (preCheck())
+            setPerOunceRate$impl(perOunceRate);
+        else synchronized (monitor())
+        {
+            setPerOunceRate$impl(perOunceRate);
+        }
+    }
+    
+    private void setPerOunceRate$impl(java.math.BigDecimal perOunceRate)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.SimpleValue target = null;
+        target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PEROUNCERATE$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PEROUNCERATE$2);
+        }
+        target.setBigDecimalValue(perOunceRate);
+    }
+    
+    /**
+     * Sets (as xml) the "per-ounce-rate" element
+     */
+    public void xsetPerOunceRate(org.apache.xmlbeans.XmlDecimal perOunceRate)
+    {
+        if (preCheck())
+            xsetPerOunceRate$impl(perOunceRate);
+        else synchronized (monitor())
+        {
+            xsetPerOunceRate$impl(perOunceRate);
+        }
+    }
+    
+    private void xsetPerOunceRate$impl(org.apache.xmlbeans.XmlDecimal perOunceRate)
+    {
+        check_orphaned();
+        org.apache.xmlbeans.XmlDecimal target = null;
+        target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(PEROUNCERATE$2, 0);
+        if (target == null)
+        {
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(PEROUNCERATE$2);
+        }
+        target.set(perOunceRate);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: application-client
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ApplicationClientDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * A document containing one application-client(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a complex type.
+ */
+public class ApplicationClientDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ApplicationClientDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ApplicationClientDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName APPLICATIONCLIENT$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "application-client");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1163542808:
+                if (name.equals(APPLICATIONCLIENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "application-client" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ApplicationClientType getApplicationClient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ApplicationClientType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ApplicationClientType)get_store().find_element_user(APPLICATIONCLIENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "application-client" element
+     */
+    public void setApplicationClient(com.sun.java.xml.ns.j2Ee.ApplicationClientType applicationClient)
+    {
+        generatedSetterHelperImpl(applicationClient, APPLICATIONCLIENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "application-client" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ApplicationClientType addNewApplicationClient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ApplicationClientType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ApplicationClientType)get_store().add_element_user(APPLICATIONCLIENT$0);
+            return target;
+        }
+    }
+}
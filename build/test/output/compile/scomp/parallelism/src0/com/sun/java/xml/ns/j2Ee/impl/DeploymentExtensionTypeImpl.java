@@ -0,0 +1,319 @@
+/*
+ * XML Type:  deployment-extensionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.DeploymentExtensionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML deployment-extensionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class DeploymentExtensionTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.DeploymentExtensionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DeploymentExtensionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EXTENSIONELEMENT$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "extension-element");
+    private static final javax.xml.namespace.QName NAMESPACE$2 = 
+        new javax.xml.namespace.QName("", "namespace");
+    private static final javax.xml.namespace.QName MUSTUNDERSTAND$4 = 
+        new javax.xml.namespace.QName("", "mustUnderstand");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -420450450:
+                if (name.equals(EXTENSIONELEMENT$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "extension-element" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ExtensibleType[] getExtensionElementArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EXTENSIONELEMENT$0, targetList);
+            com.sun.java.xml.ns.j2Ee.ExtensibleType[] result = new com.sun.java.xml.ns.j2Ee.ExtensibleType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "extension-element" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ExtensibleType getExtensionElementArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ExtensibleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ExtensibleType)get_store().find_element_user(EXTENSIONELEMENT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "extension-element" element
+     */
+    public int sizeOfExtensionElementArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EXTENSIONELEMENT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "extension-element" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setExtensionElementArray(com.sun.java.xml.ns.j2Ee.ExtensibleType[] extensionElementArray)
+    {
+        check_orphaned();
+        arraySetterHelper(extensionElementArray, EXTENSIONELEMENT$0);
+    }
+    
+    /**
+     * Sets ith "extension-element" element
+     */
+    public void setExtensionElementArray(int i, com.sun.java.xml.ns.j2Ee.ExtensibleType extensionElement)
+    {
+        generatedSetterHelperImpl(extensionElement, EXTENSIONELEMENT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "extension-element" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ExtensibleType insertNewExtensionElement(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ExtensibleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ExtensibleType)get_store().insert_element_user(EXTENSIONELEMENT$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "extension-element" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ExtensibleType addNewExtensionElement()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ExtensibleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ExtensibleType)get_store().add_element_user(EXTENSIONELEMENT$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "extension-element" element
+     */
+    public void removeExtensionElement(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EXTENSIONELEMENT$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "namespace" attribute
+     */
+    public java.lang.String getNamespace()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMESPACE$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "namespace" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetNamespace()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(NAMESPACE$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "namespace" attribute
+     */
+    public void setNamespace(java.lang.String namespace)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(NAMESPACE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(NAMESPACE$2);
+            }
+            target.setStringValue(namespace);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "namespace" attribute
+     */
+    public void xsetNamespace(org.apache.xmlbeans.XmlAnyURI namespace)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(NAMESPACE$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(NAMESPACE$2);
+            }
+            target.set(namespace);
+        }
+    }
+    
+    /**
+     * Gets the "mustUnderstand" attribute
+     */
+    public boolean getMustUnderstand()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_attribute_chars(MUSTUNDERSTAND$4, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(MUSTUNDERSTAND$4);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "mustUnderstand" attribute
+     */
+    public org.apache.xmlbeans.XmlBoolean xgetMustUnderstand()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBoolean target = null;
+            target = (org.apache.xmlbeans.XmlBoolean)get_store().find_attribute_user(MUSTUNDERSTAND$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "mustUnderstand" attribute
+     */
+    public boolean isSetMustUnderstand()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(MUSTUNDERSTAND$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "mustUnderstand" attribute
+     */
+    public void setMustUnderstand(boolean mustUnderstand)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(MUSTUNDERSTAND$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(MUSTUNDERSTAND$4);
+            }
+            target.setBooleanValue(mustUnderstand);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "mustUnderstand" attribute
+     */
+    public void xsetMustUnderstand(org.apache.xmlbeans.XmlBoolean mustUnderstand)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlBoolean target = null;
+            target = (org.apache.xmlbeans.XmlBoolean)get_store().find_attribute_user(MUSTUNDERSTAND$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlBoolean)get_store().add_attribute_user(MUSTUNDERSTAND$4);
+            }
+            target.set(mustUnderstand);
+        }
+    }
+    
+    /**
+     * Unsets the "mustUnderstand" attribute
+     */
+    public void unsetMustUnderstand()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(MUSTUNDERSTAND$4);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * XML Type:  descriptionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.DescriptionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML descriptionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.DescriptionType.
+ */
+public class DescriptionTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.sun.java.xml.ns.j2Ee.DescriptionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DescriptionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected DescriptionTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName LANG$0 = 
+        new javax.xml.namespace.QName("http://www.w3.org/XML/1998/namespace", "lang");
+    
+    
+    /**
+     * Gets the "lang" attribute
+     */
+    public java.lang.String getLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "lang" attribute
+     */
+    public org.apache.xmlbeans.XmlLanguage xgetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "lang" attribute
+     */
+    public boolean isSetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LANG$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "lang" attribute
+     */
+    public void setLang(java.lang.String lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LANG$0);
+            }
+            target.setStringValue(lang);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "lang" attribute
+     */
+    public void xsetLang(org.apache.xmlbeans.XmlLanguage lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLanguage)get_store().add_attribute_user(LANG$0);
+            }
+            target.set(lang);
+        }
+    }
+    
+    /**
+     * Unsets the "lang" attribute
+     */
+    public void unsetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LANG$0);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  dewey-versionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.DeweyVersionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML dewey-versionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.DeweyVersionType.
+ */
+public class DeweyVersionTypeImpl extends org.apache.xmlbeans.impl.values.JavaDecimalHolderEx implements com.sun.java.xml.ns.j2Ee.DeweyVersionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DeweyVersionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DeweyVersionTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * XML Type:  form-login-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.FormLoginConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML form-login-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class FormLoginConfigTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.FormLoginConfigType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FormLoginConfigTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FORMLOGINPAGE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "form-login-page");
+    private static final javax.xml.namespace.QName FORMERRORPAGE$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "form-error-page");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -997575715:
+                if (name.equals(FORMERRORPAGE$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -86422756:
+                if (name.equals(FORMLOGINPAGE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "form-login-page" element
+     */
+    public java.lang.String getFormLoginPage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FORMLOGINPAGE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "form-login-page" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WarPathType xgetFormLoginPage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WarPathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().find_element_user(FORMLOGINPAGE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "form-login-page" element
+     */
+    public void setFormLoginPage(java.lang.String formLoginPage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FORMLOGINPAGE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FORMLOGINPAGE$0);
+            }
+            target.setStringValue(formLoginPage);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "form-login-page" element
+     */
+    public void xsetFormLoginPage(com.sun.java.xml.ns.j2Ee.WarPathType formLoginPage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WarPathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().find_element_user(FORMLOGINPAGE$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().add_element_user(FORMLOGINPAGE$0);
+            }
+            target.set(formLoginPage);
+        }
+    }
+    
+    /**
+     * Gets the "form-error-page" element
+     */
+    public java.lang.String getFormErrorPage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FORMERRORPAGE$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "form-error-page" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WarPathType xgetFormErrorPage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WarPathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().find_element_user(FORMERRORPAGE$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "form-error-page" element
+     */
+    public void setFormErrorPage(java.lang.String formErrorPage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FORMERRORPAGE$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FORMERRORPAGE$2);
+            }
+            target.setStringValue(formErrorPage);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "form-error-page" element
+     */
+    public void xsetFormErrorPage(com.sun.java.xml.ns.j2Ee.WarPathType formErrorPage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WarPathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().find_element_user(FORMERRORPAGE$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.WarPathType)get_store().add_element_user(FORMERRORPAGE$2);
+            }
+            target.set(formErrorPage);
+        }
+    }
+}
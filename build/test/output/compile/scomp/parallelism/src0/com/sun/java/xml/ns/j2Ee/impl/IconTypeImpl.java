@@ -0,0 +1,324 @@
+/*
+ * XML Type:  iconType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.IconType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML iconType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class IconTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.IconType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IconTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SMALLICON$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "small-icon");
+    private static final javax.xml.namespace.QName LARGEICON$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "large-icon");
+    private static final javax.xml.namespace.QName LANG$4 = 
+        new javax.xml.namespace.QName("http://www.w3.org/XML/1998/namespace", "lang");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1183503743:
+                if (name.equals(SMALLICON$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1993764811:
+                if (name.equals(LARGEICON$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "small-icon" element
+     */
+    public java.lang.String getSmallIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SMALLICON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "small-icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetSmallIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(SMALLICON$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "small-icon" element
+     */
+    public boolean isSetSmallIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SMALLICON$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "small-icon" element
+     */
+    public void setSmallIcon(java.lang.String smallIcon)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SMALLICON$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SMALLICON$0);
+            }
+            target.setStringValue(smallIcon);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "small-icon" element
+     */
+    public void xsetSmallIcon(com.sun.java.xml.ns.j2Ee.PathType smallIcon)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(SMALLICON$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(SMALLICON$0);
+            }
+            target.set(smallIcon);
+        }
+    }
+    
+    /**
+     * Unsets the "small-icon" element
+     */
+    public void unsetSmallIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SMALLICON$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "large-icon" element
+     */
+    public java.lang.String getLargeIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LARGEICON$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "large-icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetLargeIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(LARGEICON$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "large-icon" element
+     */
+    public boolean isSetLargeIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LARGEICON$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "large-icon" element
+     */
+    public void setLargeIcon(java.lang.String largeIcon)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LARGEICON$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LARGEICON$2);
+            }
+            target.setStringValue(largeIcon);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "large-icon" element
+     */
+    public void xsetLargeIcon(com.sun.java.xml.ns.j2Ee.PathType largeIcon)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(LARGEICON$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(LARGEICON$2);
+            }
+            target.set(largeIcon);
+        }
+    }
+    
+    /**
+     * Unsets the "large-icon" element
+     */
+    public void unsetLargeIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LARGEICON$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "lang" attribute
+     */
+    public java.lang.String getLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "lang" attribute
+     */
+    public org.apache.xmlbeans.XmlLanguage xgetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "lang" attribute
+     */
+    public boolean isSetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(LANG$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "lang" attribute
+     */
+    public void setLang(java.lang.String lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LANG$4);
+            }
+            target.setStringValue(lang);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "lang" attribute
+     */
+    public void xsetLang(org.apache.xmlbeans.XmlLanguage lang)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlLanguage target = null;
+            target = (org.apache.xmlbeans.XmlLanguage)get_store().find_attribute_user(LANG$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlLanguage)get_store().add_attribute_user(LANG$4);
+            }
+            target.set(lang);
+        }
+    }
+    
+    /**
+     * Unsets the "lang" attribute
+     */
+    public void unsetLang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(LANG$4);
+        }
+    }
+}
@@ -0,0 +1,1325 @@
+/*
+ * XML Type:  jsp-property-groupType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.JspPropertyGroupType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML jsp-property-groupType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class JspPropertyGroupTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.JspPropertyGroupType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public JspPropertyGroupTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName URLPATTERN$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "url-pattern");
+    private static final javax.xml.namespace.QName ELENABLED$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "el-enabled");
+    private static final javax.xml.namespace.QName PAGEENCODING$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "page-encoding");
+    private static final javax.xml.namespace.QName SCRIPTINGENABLED$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "scripting-enabled");
+    private static final javax.xml.namespace.QName ISXML$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "is-xml");
+    private static final javax.xml.namespace.QName INCLUDEPRELUDE$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "include-prelude");
+    private static final javax.xml.namespace.QName INCLUDECODA$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "include-coda");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(9);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2000726357:
+                if (name.equals(SCRIPTINGENABLED$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -1950903096:
+                if (name.equals(INCLUDEPRELUDE$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1181242124:
+                if (name.equals(ISXML$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case -797121509:
+                if (name.equals(ELENABLED$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -96328722:
+                if (name.equals(INCLUDECODA$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case 44482257:
+                if (name.equals(PAGEENCODING$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1971762482:
+                if (name.equals(URLPATTERN$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "url-pattern" elements
+     */
+    public java.lang.String[] getUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(URLPATTERN$4, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "url-pattern" element
+     */
+    public java.lang.String getUrlPatternArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "url-pattern" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType[] xgetUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(URLPATTERN$4, targetList);
+            com.sun.java.xml.ns.j2Ee.UrlPatternType[] result = new com.sun.java.xml.ns.j2Ee.UrlPatternType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPatternArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "url-pattern" element
+     */
+    public int sizeOfUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "url-pattern" element
+     */
+    public void setUrlPatternArray(java.lang.String[] urlPatternArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(urlPatternArray, URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets ith "url-pattern" element
+     */
+    public void setUrlPatternArray(int i, java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "url-pattern" element
+     */
+    public void xsetUrlPatternArray(com.sun.java.xml.ns.j2Ee.UrlPatternType[]urlPatternArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(urlPatternArray, URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "url-pattern" element
+     */
+    public void xsetUrlPatternArray(int i, com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(urlPattern);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "url-pattern" element
+     */
+    public void insertUrlPattern(int i, java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(URLPATTERN$4, i);
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "url-pattern" element
+     */
+    public void addUrlPattern(java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(URLPATTERN$4);
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType insertNewUrlPattern(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().insert_element_user(URLPATTERN$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType addNewUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().add_element_user(URLPATTERN$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "url-pattern" element
+     */
+    public void removeUrlPattern(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(URLPATTERN$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "el-enabled" element
+     */
+    public boolean getElEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(ELENABLED$6, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ELENABLED$6, 0);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "el-enabled" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TrueFalseType xgetElEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(ELENABLED$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "el-enabled" element
+     */
+    public boolean isSetElEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ELENABLED$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "el-enabled" element
+     */
+    public void setElEnabled(boolean elEnabled)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ELENABLED$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ELENABLED$6);
+            }
+            target.setBooleanValue(elEnabled);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "el-enabled" element
+     */
+    public void xsetElEnabled(com.sun.java.xml.ns.j2Ee.TrueFalseType elEnabled)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(ELENABLED$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().add_element_user(ELENABLED$6);
+            }
+            target.set(elEnabled);
+        }
+    }
+    
+    /**
+     * Unsets the "el-enabled" element
+     */
+    public void unsetElEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ELENABLED$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "page-encoding" element
+     */
+    public java.lang.String getPageEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PAGEENCODING$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "page-encoding" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetPageEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(PAGEENCODING$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "page-encoding" element
+     */
+    public boolean isSetPageEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PAGEENCODING$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "page-encoding" element
+     */
+    public void setPageEncoding(java.lang.String pageEncoding)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PAGEENCODING$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PAGEENCODING$8);
+            }
+            target.setStringValue(pageEncoding);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "page-encoding" element
+     */
+    public void xsetPageEncoding(com.sun.java.xml.ns.j2Ee.String pageEncoding)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(PAGEENCODING$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(PAGEENCODING$8);
+            }
+            target.set(pageEncoding);
+        }
+    }
+    
+    /**
+     * Unsets the "page-encoding" element
+     */
+    public void unsetPageEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PAGEENCODING$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "scripting-enabled" element
+     */
+    public boolean getScriptingEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(SCRIPTINGENABLED$10, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SCRIPTINGENABLED$10, 0);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "scripting-enabled" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TrueFalseType xgetScriptingEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(SCRIPTINGENABLED$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "scripting-enabled" element
+     */
+    public boolean isSetScriptingEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SCRIPTINGENABLED$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "scripting-enabled" element
+     */
+    public void setScriptingEnabled(boolean scriptingEnabled)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SCRIPTINGENABLED$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SCRIPTINGENABLED$10);
+            }
+            target.setBooleanValue(scriptingEnabled);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "scripting-enabled" element
+     */
+    public void xsetScriptingEnabled(com.sun.java.xml.ns.j2Ee.TrueFalseType scriptingEnabled)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(SCRIPTINGENABLED$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().add_element_user(SCRIPTINGENABLED$10);
+            }
+            target.set(scriptingEnabled);
+        }
+    }
+    
+    /**
+     * Unsets the "scripting-enabled" element
+     */
+    public void unsetScriptingEnabled()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SCRIPTINGENABLED$10, 0);
+        }
+    }
+    
+    /**
+     * Gets the "is-xml" element
+     */
+    public boolean getIsXml()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.lang.CharSequence text = get_store().find_element_chars(ISXML$12, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+            if (text != null)
+            {
+                try
+                {
+                    return org.apache.xmlbeans.impl.util.XsTypeConverter.lexBoolean(text);
+                }
+                catch (java.lang.RuntimeException e)
+                {
+                    // not a valid value, the error comes from the target
+                }
+            }
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ISXML$12, 0);
+            if (target == null)
+            {
+                return false;
+            }
+            return target.getBooleanValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "is-xml" element
+     */
+    public com.sun.java.xml.ns.j2Ee.TrueFalseType xgetIsXml()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(ISXML$12, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "is-xml" element
+     */
+    public boolean isSetIsXml()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ISXML$12) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "is-xml" element
+     */
+    public void setIsXml(boolean isXml)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ISXML$12, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ISXML$12);
+            }
+            target.setBooleanValue(isXml);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "is-xml" element
+     */
+    public void xsetIsXml(com.sun.java.xml.ns.j2Ee.TrueFalseType isXml)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.TrueFalseType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().find_element_user(ISXML$12, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.TrueFalseType)get_store().add_element_user(ISXML$12);
+            }
+            target.set(isXml);
+        }
+    }
+    
+    /**
+     * Unsets the "is-xml" element
+     */
+    public void unsetIsXml()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ISXML$12, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "include-prelude" elements
+     */
+    public java.lang.String[] getIncludePreludeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INCLUDEPRELUDE$14, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "include-prelude" element
+     */
+    public java.lang.String getIncludePreludeArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INCLUDEPRELUDE$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "include-prelude" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType[] xgetIncludePreludeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INCLUDEPRELUDE$14, targetList);
+            com.sun.java.xml.ns.j2Ee.PathType[] result = new com.sun.java.xml.ns.j2Ee.PathType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "include-prelude" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetIncludePreludeArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(INCLUDEPRELUDE$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "include-prelude" element
+     */
+    public int sizeOfIncludePreludeArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INCLUDEPRELUDE$14);
+        }
+    }
+    
+    /**
+     * Sets array of all "include-prelude" element
+     */
+    public void setIncludePreludeArray(java.lang.String[] includePreludeArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(includePreludeArray, INCLUDEPRELUDE$14);
+        }
+    }
+    
+    /**
+     * Sets ith "include-prelude" element
+     */
+    public void setIncludePreludeArray(int i, java.lang.String includePrelude)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INCLUDEPRELUDE$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(includePrelude);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "include-prelude" element
+     */
+    public void xsetIncludePreludeArray(com.sun.java.xml.ns.j2Ee.PathType[]includePreludeArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(includePreludeArray, INCLUDEPRELUDE$14);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "include-prelude" element
+     */
+    public void xsetIncludePreludeArray(int i, com.sun.java.xml.ns.j2Ee.PathType includePrelude)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(INCLUDEPRELUDE$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(includePrelude);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "include-prelude" element
+     */
+    public void insertIncludePrelude(int i, java.lang.String includePrelude)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INCLUDEPRELUDE$14, i);
+            target.setStringValue(includePrelude);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "include-prelude" element
+     */
+    public void addIncludePrelude(java.lang.String includePrelude)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INCLUDEPRELUDE$14);
+            target.setStringValue(includePrelude);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "include-prelude" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType insertNewIncludePrelude(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().insert_element_user(INCLUDEPRELUDE$14, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "include-prelude" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType addNewIncludePrelude()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(INCLUDEPRELUDE$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "include-prelude" element
+     */
+    public void removeIncludePrelude(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INCLUDEPRELUDE$14, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "include-coda" elements
+     */
+    public java.lang.String[] getIncludeCodaArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INCLUDECODA$16, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "include-coda" element
+     */
+    public java.lang.String getIncludeCodaArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INCLUDECODA$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "include-coda" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType[] xgetIncludeCodaArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INCLUDECODA$16, targetList);
+            com.sun.java.xml.ns.j2Ee.PathType[] result = new com.sun.java.xml.ns.j2Ee.PathType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "include-coda" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType xgetIncludeCodaArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(INCLUDECODA$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "include-coda" element
+     */
+    public int sizeOfIncludeCodaArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INCLUDECODA$16);
+        }
+    }
+    
+    /**
+     * Sets array of all "include-coda" element
+     */
+    public void setIncludeCodaArray(java.lang.String[] includeCodaArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(includeCodaArray, INCLUDECODA$16);
+        }
+    }
+    
+    /**
+     * Sets ith "include-coda" element
+     */
+    public void setIncludeCodaArray(int i, java.lang.String includeCoda)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(INCLUDECODA$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(includeCoda);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "include-coda" element
+     */
+    public void xsetIncludeCodaArray(com.sun.java.xml.ns.j2Ee.PathType[]includeCodaArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(includeCodaArray, INCLUDECODA$16);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "include-coda" element
+     */
+    public void xsetIncludeCodaArray(int i, com.sun.java.xml.ns.j2Ee.PathType includeCoda)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().find_element_user(INCLUDECODA$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(includeCoda);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "include-coda" element
+     */
+    public void insertIncludeCoda(int i, java.lang.String includeCoda)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(INCLUDECODA$16, i);
+            target.setStringValue(includeCoda);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "include-coda" element
+     */
+    public void addIncludeCoda(java.lang.String includeCoda)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(INCLUDECODA$16);
+            target.setStringValue(includeCoda);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "include-coda" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType insertNewIncludeCoda(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().insert_element_user(INCLUDECODA$16, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "include-coda" element
+     */
+    public com.sun.java.xml.ns.j2Ee.PathType addNewIncludeCoda()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.PathType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.PathType)get_store().add_element_user(INCLUDECODA$16);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "include-coda" element
+     */
+    public void removeIncludeCoda(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INCLUDECODA$16, i);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * XML Type:  locale-encoding-mapping-listType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML locale-encoding-mapping-listType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class LocaleEncodingMappingListTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocaleEncodingMappingListTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALEENCODINGMAPPING$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "locale-encoding-mapping");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1222663527:
+                if (name.equals(LOCALEENCODINGMAPPING$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "locale-encoding-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType[] getLocaleEncodingMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALEENCODINGMAPPING$0, targetList);
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType[] result = new com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "locale-encoding-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType getLocaleEncodingMappingArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType)get_store().find_element_user(LOCALEENCODINGMAPPING$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "locale-encoding-mapping" element
+     */
+    public int sizeOfLocaleEncodingMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALEENCODINGMAPPING$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "locale-encoding-mapping" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocaleEncodingMappingArray(com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType[] localeEncodingMappingArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localeEncodingMappingArray, LOCALEENCODINGMAPPING$0);
+    }
+    
+    /**
+     * Sets ith "locale-encoding-mapping" element
+     */
+    public void setLocaleEncodingMappingArray(int i, com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType localeEncodingMapping)
+    {
+        generatedSetterHelperImpl(localeEncodingMapping, LOCALEENCODINGMAPPING$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "locale-encoding-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType insertNewLocaleEncodingMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType)get_store().insert_element_user(LOCALEENCODINGMAPPING$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "locale-encoding-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType addNewLocaleEncodingMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType)get_store().add_element_user(LOCALEENCODINGMAPPING$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "locale-encoding-mapping" element
+     */
+    public void removeLocaleEncodingMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALEENCODINGMAPPING$0, i);
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * XML Type:  resource-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ResourceRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML resource-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ResourceRefTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ResourceRefType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ResourceRefTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName RESREFNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "res-ref-name");
+    private static final javax.xml.namespace.QName RESTYPE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "res-type");
+    private static final javax.xml.namespace.QName RESAUTH$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "res-auth");
+    private static final javax.xml.namespace.QName RESSHARINGSCOPE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "res-sharing-scope");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2099003466:
+                if (name.equals(RESSHARINGSCOPE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -902642158:
+                if (name.equals(RESREFNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -402609483:
+                if (name.equals(RESAUTH$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -402039737:
+                if (name.equals(RESTYPE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "res-ref-name" element
+     */
+    public java.lang.String getResRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESREFNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "res-ref-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JndiNameType xgetResRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(RESREFNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "res-ref-name" element
+     */
+    public void setResRefName(java.lang.String resRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESREFNAME$2);
+            }
+            target.setStringValue(resRefName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "res-ref-name" element
+     */
+    public void xsetResRefName(com.sun.java.xml.ns.j2Ee.JndiNameType resRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(RESREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().add_element_user(RESREFNAME$2);
+            }
+            target.set(resRefName);
+        }
+    }
+    
+    /**
+     * Gets the "res-type" element
+     */
+    public java.lang.String getResType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESTYPE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "res-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetResType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(RESTYPE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "res-type" element
+     */
+    public void setResType(java.lang.String resType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESTYPE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESTYPE$4);
+            }
+            target.setStringValue(resType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "res-type" element
+     */
+    public void xsetResType(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType resType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(RESTYPE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(RESTYPE$4);
+            }
+            target.set(resType);
+        }
+    }
+    
+    /**
+     * Gets the "res-auth" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResAuthType.Enum getResAuth()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESAUTH$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.ResAuthType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "res-auth" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResAuthType xgetResAuth()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResAuthType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResAuthType)get_store().find_element_user(RESAUTH$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "res-auth" element
+     */
+    public void setResAuth(com.sun.java.xml.ns.j2Ee.ResAuthType.Enum resAuth)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESAUTH$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESAUTH$6);
+            }
+            target.setEnumValue(resAuth);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "res-auth" element
+     */
+    public void xsetResAuth(com.sun.java.xml.ns.j2Ee.ResAuthType resAuth)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResAuthType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResAuthType)get_store().find_element_user(RESAUTH$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ResAuthType)get_store().add_element_user(RESAUTH$6);
+            }
+            target.set(resAuth);
+        }
+    }
+    
+    /**
+     * Gets the "res-sharing-scope" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResSharingScopeType.Enum getResSharingScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESSHARINGSCOPE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.ResSharingScopeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "res-sharing-scope" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResSharingScopeType xgetResSharingScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResSharingScopeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResSharingScopeType)get_store().find_element_user(RESSHARINGSCOPE$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "res-sharing-scope" element
+     */
+    public boolean isSetResSharingScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESSHARINGSCOPE$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "res-sharing-scope" element
+     */
+    public void setResSharingScope(com.sun.java.xml.ns.j2Ee.ResSharingScopeType.Enum resSharingScope)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(RESSHARINGSCOPE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(RESSHARINGSCOPE$8);
+            }
+            target.setEnumValue(resSharingScope);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "res-sharing-scope" element
+     */
+    public void xsetResSharingScope(com.sun.java.xml.ns.j2Ee.ResSharingScopeType resSharingScope)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResSharingScopeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResSharingScopeType)get_store().find_element_user(RESSHARINGSCOPE$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ResSharingScopeType)get_store().add_element_user(RESSHARINGSCOPE$8);
+            }
+            target.set(resSharingScope);
+        }
+    }
+    
+    /**
+     * Unsets the "res-sharing-scope" element
+     */
+    public void unsetResSharingScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESSHARINGSCOPE$8, 0);
+        }
+    }
+}
@@ -0,0 +1,1126 @@
+/*
+ * XML Type:  servletType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ServletType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML servletType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class ServletTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.ServletType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ServletTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName SERVLETNAME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet-name");
+    private static final javax.xml.namespace.QName SERVLETCLASS$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet-class");
+    private static final javax.xml.namespace.QName JSPFILE$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "jsp-file");
+    private static final javax.xml.namespace.QName INITPARAM$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "init-param");
+    private static final javax.xml.namespace.QName LOADONSTARTUP$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "load-on-startup");
+    private static final javax.xml.namespace.QName RUNAS$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "run-as");
+    private static final javax.xml.namespace.QName SECURITYROLEREF$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role-ref");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(11);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2119059799:
+                if (name.equals(SECURITYROLEREF$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case -2005790910:
+                if (name.equals(JSPFILE$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case -919868748:
+                if (name.equals(RUNAS$16))
+                    return ORDINAL$BASE + 8;
+                break;
+            case -843354861:
+                if (name.equals(SERVLETNAME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -833124976:
+                if (name.equals(INITPARAM$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case -675766314:
+                if (name.equals(LOADONSTARTUP$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case -384038928:
+                if (name.equals(SERVLETCLASS$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "servlet-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletNameType xgetServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SERVLETNAME$6);
+            }
+            target.setStringValue(servletName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "servlet-name" element
+     */
+    public void xsetServletName(com.sun.java.xml.ns.j2Ee.ServletNameType servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().add_element_user(SERVLETNAME$6);
+            }
+            target.set(servletName);
+        }
+    }
+    
+    /**
+     * Gets the "servlet-class" element
+     */
+    public java.lang.String getServletClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETCLASS$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "servlet-class" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType xgetServletClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(SERVLETCLASS$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "servlet-class" element
+     */
+    public boolean isSetServletClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVLETCLASS$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "servlet-class" element
+     */
+    public void setServletClass(java.lang.String servletClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETCLASS$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SERVLETCLASS$8);
+            }
+            target.setStringValue(servletClass);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "servlet-class" element
+     */
+    public void xsetServletClass(com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType servletClass)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().find_element_user(SERVLETCLASS$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FullyQualifiedClassType)get_store().add_element_user(SERVLETCLASS$8);
+            }
+            target.set(servletClass);
+        }
+    }
+    
+    /**
+     * Unsets the "servlet-class" element
+     */
+    public void unsetServletClass()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVLETCLASS$8, 0);
+        }
+    }
+    
+    /**
+     * Gets the "jsp-file" element
+     */
+    public java.lang.String getJspFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(JSPFILE$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "jsp-file" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspFileType xgetJspFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspFileType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspFileType)get_store().find_element_user(JSPFILE$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "jsp-file" element
+     */
+    public boolean isSetJspFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(JSPFILE$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "jsp-file" element
+     */
+    public void setJspFile(java.lang.String jspFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(JSPFILE$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(JSPFILE$10);
+            }
+            target.setStringValue(jspFile);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "jsp-file" element
+     */
+    public void xsetJspFile(com.sun.java.xml.ns.j2Ee.JspFileType jspFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspFileType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspFileType)get_store().find_element_user(JSPFILE$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JspFileType)get_store().add_element_user(JSPFILE$10);
+            }
+            target.set(jspFile);
+        }
+    }
+    
+    /**
+     * Unsets the "jsp-file" element
+     */
+    public void unsetJspFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(JSPFILE$10, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "init-param" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType[] getInitParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(INITPARAM$12, targetList);
+            com.sun.java.xml.ns.j2Ee.ParamValueType[] result = new com.sun.java.xml.ns.j2Ee.ParamValueType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "init-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType getInitParamArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().find_element_user(INITPARAM$12, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "init-param" element
+     */
+    public int sizeOfInitParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(INITPARAM$12);
+        }
+    }
+    
+    /**
+     * Sets array of all "init-param" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setInitParamArray(com.sun.java.xml.ns.j2Ee.ParamValueType[] initParamArray)
+    {
+        check_orphaned();
+        arraySetterHelper(initParamArray, INITPARAM$12);
+    }
+    
+    /**
+     * Sets ith "init-param" element
+     */
+    public void setInitParamArray(int i, com.sun.java.xml.ns.j2Ee.ParamValueType initParam)
+    {
+        generatedSetterHelperImpl(initParam, INITPARAM$12, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "init-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType insertNewInitParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().insert_element_user(INITPARAM$12, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "init-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType addNewInitParam()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().add_element_user(INITPARAM$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "init-param" element
+     */
+    public void removeInitParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(INITPARAM$12, i);
+        }
+    }
+    
+    /**
+     * Gets the "load-on-startup" element
+     */
+    public java.math.BigInteger getLoadOnStartup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADONSTARTUP$14, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "load-on-startup" element
+     */
+    public org.apache.xmlbeans.XmlInteger xgetLoadOnStartup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(LOADONSTARTUP$14, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "load-on-startup" element
+     */
+    public boolean isSetLoadOnStartup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOADONSTARTUP$14) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "load-on-startup" element
+     */
+    public void setLoadOnStartup(java.math.BigInteger loadOnStartup)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOADONSTARTUP$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOADONSTARTUP$14);
+            }
+            target.setBigIntegerValue(loadOnStartup);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "load-on-startup" element
+     */
+    public void xsetLoadOnStartup(org.apache.xmlbeans.XmlInteger loadOnStartup)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlInteger target = null;
+            target = (org.apache.xmlbeans.XmlInteger)get_store().find_element_user(LOADONSTARTUP$14, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlInteger)get_store().add_element_user(LOADONSTARTUP$14);
+            }
+            target.set(loadOnStartup);
+        }
+    }
+    
+    /**
+     * Unsets the "load-on-startup" element
+     */
+    public void unsetLoadOnStartup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOADONSTARTUP$14, 0);
+        }
+    }
+    
+    /**
+     * Gets the "run-as" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RunAsType getRunAs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RunAsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RunAsType)get_store().find_element_user(RUNAS$16, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "run-as" element
+     */
+    public boolean isSetRunAs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RUNAS$16) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "run-as" element
+     */
+    public void setRunAs(com.sun.java.xml.ns.j2Ee.RunAsType runAs)
+    {
+        generatedSetterHelperImpl(runAs, RUNAS$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "run-as" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RunAsType addNewRunAs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RunAsType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RunAsType)get_store().add_element_user(RUNAS$16);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "run-as" element
+     */
+    public void unsetRunAs()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RUNAS$16, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-role-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] getSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLEREF$18, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType getSecurityRoleRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().find_element_user(SECURITYROLEREF$18, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role-ref" element
+     */
+    public int sizeOfSecurityRoleRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLEREF$18);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleRefArray(com.sun.java.xml.ns.j2Ee.SecurityRoleRefType[] securityRoleRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleRefArray, SECURITYROLEREF$18);
+    }
+    
+    /**
+     * Sets ith "security-role-ref" element
+     */
+    public void setSecurityRoleRefArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleRefType securityRoleRef)
+    {
+        generatedSetterHelperImpl(securityRoleRef, SECURITYROLEREF$18, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType insertNewSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().insert_element_user(SECURITYROLEREF$18, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleRefType addNewSecurityRoleRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleRefType)get_store().add_element_user(SECURITYROLEREF$18);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role-ref" element
+     */
+    public void removeSecurityRoleRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLEREF$18, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$20, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$20, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$20);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$20);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$20, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$20, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$20);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$20, i);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: application-client
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * A document containing one application-client(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ApplicationClientDocument.
+ */
+public class ApplicationClientDocument
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientType _applicationClient;
+    
+    /**
+     * Gets the "application-client" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientType getApplicationClient()
+    {
+        return _applicationClient;
+    }
+    
+    /**
+     * Sets the "application-client" element
+     */
+    public void setApplicationClient(com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientType applicationClient)
+    {
+        this._applicationClient = applicationClient;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be application-client(@http://java.sun.com/xml/ns/j2ee), and leaves the reader on the end of
+     * that element.
+     */
+    public static ApplicationClientDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ApplicationClientDocument result = new ApplicationClientDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://java.sun.com/xml/ns/j2ee", "application-client");
+        {
+            result._applicationClient = com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static ApplicationClientDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static ApplicationClientDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static ApplicationClientDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._applicationClient != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "application-client", ns);
+            this._applicationClient.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * XML Type:  ejb-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.EjbRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML ejb-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.EjbRefType.
+ */
+public class EjbRefType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private java.lang.String _ejbRefName;
+    private java.lang.String _ejbRefType;
+    private java.lang.String _home;
+    private java.lang.String _remote;
+    private java.lang.String _ejbLink;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "ejb-ref-name" element
+     */
+    public java.lang.String getEjbRefName()
+    {
+        return _ejbRefName;
+    }
+    
+    /**
+     * Sets the "ejb-ref-name" element
+     */
+    public void setEjbRefName(java.lang.String ejbRefName)
+    {
+        this._ejbRefName = ejbRefName;
+    }
+    
+    /**
+     * Gets the "ejb-ref-type" element
+     */
+    public java.lang.String getEjbRefType()
+    {
+        return _ejbRefType;
+    }
+    
+    /**
+     * Sets the "ejb-ref-type" element
+     */
+    public void setEjbRefType(java.lang.String ejbRefType)
+    {
+        this._ejbRefType = ejbRefType;
+    }
+    
+    /**
+     * Gets the "home" element
+     */
+    public java.lang.String getHome()
+    {
+        return _home;
+    }
+    
+    /**
+     * Sets the "home" element
+     */
+    public void setHome(java.lang.String home)
+    {
+        this._home = home;
+    }
+    
+    /**
+     * Gets the "remote" element
+     */
+    public java.lang.String getRemote()
+    {
+        return _remote;
+    }
+    
+    /**
+     * Sets the "remote" element
+     */
+    public void setRemote(java.lang.String remote)
+    {
+        this._remote = remote;
+    }
+    
+    /**
+     * Gets the "ejb-link" element
+     */
+    public java.lang.String getEjbLink()
+    {
+        return _ejbLink;
+    }
+    
+    /**
+     * Sets the "ejb-link" element
+     */
+    public void setEjbLink(java.lang.String ejbLink)
+    {
+        this._ejbLink = ejbLink;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static EjbRefType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        EjbRefType result = new EjbRefType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("ejb-ref-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._ejbRefName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("ejb-ref-type".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._ejbRefType = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("home".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._home = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("remote".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._remote = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("ejb-link".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._ejbLink = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._ejbRefName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-ref-name", ns);
+            writer.writeCharacters(this._ejbRefName);
+            writer.writeEndElement();
+        }
+        if (this._ejbRefType != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-ref-type", ns);
+            writer.writeCharacters(this._ejbRefType);
+            writer.writeEndElement();
+        }
+        if (this._home != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "home", ns);
+            writer.writeCharacters(this._home);
+            writer.writeEndElement();
+        }
+        if (this._remote != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "remote", ns);
+            writer.writeCharacters(this._remote);
+            writer.writeEndElement();
+        }
+        if (this._ejbLink != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-link", ns);
+            writer.writeCharacters(this._ejbLink);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * XML Type:  error-pageType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML error-pageType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ErrorPageType.
+ */
+public class ErrorPageType
+{
+    private java.math.BigInteger _errorCode;
+    private java.lang.String _exceptionType;
+    private java.lang.String _location;
+    
+    /**
+     * Gets the "error-code" element
+     */
+    public java.math.BigInteger getErrorCode()
+    {
+        return _errorCode;
+    }
+    
+    /**
+     * Sets the "error-code" element
+     */
+    public void setErrorCode(java.math.BigInteger errorCode)
+    {
+        this._errorCode = errorCode;
+    }
+    
+    /**
+     * Gets the "exception-type" element
+     */
+    public java.lang.String getExceptionType()
+    {
+        return _exceptionType;
+    }
+    
+    /**
+     * Sets the "exception-type" element
+     */
+    public void setExceptionType(java.lang.String exceptionType)
+    {
+        this._exceptionType = exceptionType;
+    }
+    
+    /**
+     * Gets the "location" element
+     */
+    public java.lang.String getLocation()
+    {
+        return _location;
+    }
+    
+    /**
+     * Sets the "location" element
+     */
+    public void setLocation(java.lang.String location)
+    {
+        this._location = location;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ErrorPageType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ErrorPageType result = new ErrorPageType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("error-code".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._errorCode = reader.getBigIntegerValue();
+            }
+            else if ("exception-type".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._exceptionType = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("location".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._location = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._errorCode != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "error-code", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._errorCode));
+            writer.writeEndElement();
+        }
+        if (this._exceptionType != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "exception-type", ns);
+            writer.writeCharacters(this._exceptionType);
+            writer.writeEndElement();
+        }
+        if (this._location != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "location", ns);
+            writer.writeCharacters(this._location);
+            writer.writeEndElement();
+        }
+    }
+}
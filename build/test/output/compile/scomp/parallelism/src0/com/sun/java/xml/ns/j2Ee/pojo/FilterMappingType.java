@@ -0,0 +1,177 @@
+/*
+ * XML Type:  filter-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML filter-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.FilterMappingType.
+ */
+public class FilterMappingType
+{
+    private java.lang.String _filterName;
+    private java.lang.String _urlPattern;
+    private java.lang.String _servletName;
+    private java.lang.String[] _dispatcher;
+    
+    /**
+     * Gets the "filter-name" element
+     */
+    public java.lang.String getFilterName()
+    {
+        return _filterName;
+    }
+    
+    /**
+     * Sets the "filter-name" element
+     */
+    public void setFilterName(java.lang.String filterName)
+    {
+        this._filterName = filterName;
+    }
+    
+    /**
+     * Gets the "url-pattern" element
+     */
+    public java.lang.String getUrlPattern()
+    {
+        return _urlPattern;
+    }
+    
+    /**
+     * Sets the "url-pattern" element
+     */
+    public void setUrlPattern(java.lang.String urlPattern)
+    {
+        this._urlPattern = urlPattern;
+    }
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        return _servletName;
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        this._servletName = servletName;
+    }
+    
+    /**
+     * Gets array of all "dispatcher" elements
+     */
+    public java.lang.String[] getDispatcherArray()
+    {
+        return _dispatcher;
+    }
+    
+    /**
+     * Sets array of all "dispatcher" elements
+     */
+    public void setDispatcherArray(java.lang.String[] dispatcher)
+    {
+        this._dispatcher = dispatcher;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static FilterMappingType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        FilterMappingType result = new FilterMappingType();
+        java.lang.String[] dispatcherArray = new java.lang.String[0]; int dispatcherCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("filter-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._filterName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("url-pattern".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._urlPattern = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("servlet-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._servletName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("dispatcher".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (dispatcherCount == dispatcherArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[dispatcherCount * 2 + 4];
+                    java.lang.System.arraycopy(dispatcherArray, 0, grown, 0, dispatcherCount);
+                    dispatcherArray = grown;
+                }
+                dispatcherArray[dispatcherCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (dispatcherCount != dispatcherArray.length)
+        {
+            result._dispatcher = new java.lang.String[dispatcherCount];
+            java.lang.System.arraycopy(dispatcherArray, 0, result._dispatcher, 0, dispatcherCount);
+        }
+        else
+            result._dispatcher = dispatcherArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._filterName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "filter-name", ns);
+            writer.writeCharacters(this._filterName);
+            writer.writeEndElement();
+        }
+        if (this._urlPattern != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "url-pattern", ns);
+            writer.writeCharacters(this._urlPattern);
+            writer.writeEndElement();
+        }
+        if (this._servletName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet-name", ns);
+            writer.writeCharacters(this._servletName);
+            writer.writeEndElement();
+        }
+        if (this._dispatcher != null)
+        {
+            for (int i = 0; i < this._dispatcher.length; i++)
+            {
+                if (this._dispatcher[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "dispatcher", ns);
+                    writer.writeCharacters(this._dispatcher[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  form-login-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.FormLoginConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML form-login-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.FormLoginConfigType.
+ */
+public class FormLoginConfigType
+{
+    private java.lang.String _formLoginPage;
+    private java.lang.String _formErrorPage;
+    
+    /**
+     * Gets the "form-login-page" element
+     */
+    public java.lang.String getFormLoginPage()
+    {
+        return _formLoginPage;
+    }
+    
+    /**
+     * Sets the "form-login-page" element
+     */
+    public void setFormLoginPage(java.lang.String formLoginPage)
+    {
+        this._formLoginPage = formLoginPage;
+    }
+    
+    /**
+     * Gets the "form-error-page" element
+     */
+    public java.lang.String getFormErrorPage()
+    {
+        return _formErrorPage;
+    }
+    
+    /**
+     * Sets the "form-error-page" element
+     */
+    public void setFormErrorPage(java.lang.String formErrorPage)
+    {
+        this._formErrorPage = formErrorPage;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static FormLoginConfigType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        FormLoginConfigType result = new FormLoginConfigType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("form-login-page".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._formLoginPage = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("form-error-page".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._formErrorPage = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._formLoginPage != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "form-login-page", ns);
+            writer.writeCharacters(this._formLoginPage);
+            writer.writeEndElement();
+        }
+        if (this._formErrorPage != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "form-error-page", ns);
+            writer.writeCharacters(this._formErrorPage);
+            writer.writeEndElement();
+        }
+    }
+}
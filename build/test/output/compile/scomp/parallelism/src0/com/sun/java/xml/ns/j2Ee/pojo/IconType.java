@@ -0,0 +1,131 @@
+/*
+ * XML Type:  iconType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.IconType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML iconType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.IconType.
+ */
+public class IconType
+{
+    private java.lang.String _lang;
+    private java.lang.String _smallIcon;
+    private java.lang.String _largeIcon;
+    
+    /**
+     * Gets the "lang" attribute
+     */
+    public java.lang.String getLang()
+    {
+        return _lang;
+    }
+    
+    /**
+     * Sets the "lang" attribute
+     */
+    public void setLang(java.lang.String lang)
+    {
+        this._lang = lang;
+    }
+    
+    /**
+     * Gets the "small-icon" element
+     */
+    public java.lang.String getSmallIcon()
+    {
+        return _smallIcon;
+    }
+    
+    /**
+     * Sets the "small-icon" element
+     */
+    public void setSmallIcon(java.lang.String smallIcon)
+    {
+        this._smallIcon = smallIcon;
+    }
+    
+    /**
+     * Gets the "large-icon" element
+     */
+    public java.lang.String getLargeIcon()
+    {
+        return _largeIcon;
+    }
+    
+    /**
+     * Sets the "large-icon" element
+     */
+    public void setLargeIcon(java.lang.String largeIcon)
+    {
+        this._largeIcon = largeIcon;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static IconType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        IconType result = new IconType();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("lang".equals(local) && "http://www.w3.org/XML/1998/namespace".equals(uri))
+                result._lang = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("small-icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._smallIcon = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("large-icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._largeIcon = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._lang != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "http://www.w3.org/XML/1998/namespace", "lang", this._lang);
+        if (this._smallIcon != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "small-icon", ns);
+            writer.writeCharacters(this._smallIcon);
+            writer.writeEndElement();
+        }
+        if (this._largeIcon != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "large-icon", ns);
+            writer.writeCharacters(this._largeIcon);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * XML Type:  jsp-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.JspConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML jsp-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.JspConfigType.
+ */
+public class JspConfigType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.TaglibType[] _taglib;
+    private com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[] _jspPropertyGroup;
+    
+    /**
+     * Gets array of all "taglib" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.TaglibType[] getTaglibArray()
+    {
+        return _taglib;
+    }
+    
+    /**
+     * Sets array of all "taglib" elements
+     */
+    public void setTaglibArray(com.sun.java.xml.ns.j2Ee.pojo.TaglibType[] taglib)
+    {
+        this._taglib = taglib;
+    }
+    
+    /**
+     * Gets array of all "jsp-property-group" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[] getJspPropertyGroupArray()
+    {
+        return _jspPropertyGroup;
+    }
+    
+    /**
+     * Sets array of all "jsp-property-group" elements
+     */
+    public void setJspPropertyGroupArray(com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[] jspPropertyGroup)
+    {
+        this._jspPropertyGroup = jspPropertyGroup;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static JspConfigType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        JspConfigType result = new JspConfigType();
+        com.sun.java.xml.ns.j2Ee.pojo.TaglibType[] taglibArray = new com.sun.java.xml.ns.j2Ee.pojo.TaglibType[0]; int taglibCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[] jspPropertyGroupArray = new com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[0]; int jspPropertyGroupCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("taglib".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (taglibCount == taglibArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.TaglibType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.TaglibType[taglibCount * 2 + 4];
+                    java.lang.System.arraycopy(taglibArray, 0, grown, 0, taglibCount);
+                    taglibArray = grown;
+                }
+                taglibArray[taglibCount++] = com.sun.java.xml.ns.j2Ee.pojo.TaglibType.read(reader);
+            }
+            else if ("jsp-property-group".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (jspPropertyGroupCount == jspPropertyGroupArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[jspPropertyGroupCount * 2 + 4];
+                    java.lang.System.arraycopy(jspPropertyGroupArray, 0, grown, 0, jspPropertyGroupCount);
+                    jspPropertyGroupArray = grown;
+                }
+                jspPropertyGroupArray[jspPropertyGroupCount++] = com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (taglibCount != taglibArray.length)
+        {
+            result._taglib = new com.sun.java.xml.ns.j2Ee.pojo.TaglibType[taglibCount];
+            java.lang.System.arraycopy(taglibArray, 0, result._taglib, 0, taglibCount);
+        }
+        else
+            result._taglib = taglibArray;
+        
+        if (jspPropertyGroupCount != jspPropertyGroupArray.length)
+        {
+            result._jspPropertyGroup = new com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType[jspPropertyGroupCount];
+            java.lang.System.arraycopy(jspPropertyGroupArray, 0, result._jspPropertyGroup, 0, jspPropertyGroupCount);
+        }
+        else
+            result._jspPropertyGroup = jspPropertyGroupArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._taglib != null)
+        {
+            for (int i = 0; i < this._taglib.length; i++)
+            {
+                if (this._taglib[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "taglib", ns);
+                    this._taglib[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._jspPropertyGroup != null)
+        {
+            for (int i = 0; i < this._jspPropertyGroup.length; i++)
+            {
+                if (this._jspPropertyGroup[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "jsp-property-group", ns);
+                    this._jspPropertyGroup[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * XML Type:  jsp-property-groupType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.JspPropertyGroupType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML jsp-property-groupType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.JspPropertyGroupType.
+ */
+public class JspPropertyGroupType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private java.lang.String[] _urlPattern;
+    private java.lang.Boolean _elEnabled;
+    private java.lang.String _pageEncoding;
+    private java.lang.Boolean _scriptingEnabled;
+    private java.lang.Boolean _isXml;
+    private java.lang.String[] _includePrelude;
+    private java.lang.String[] _includeCoda;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "url-pattern" elements
+     */
+    public java.lang.String[] getUrlPatternArray()
+    {
+        return _urlPattern;
+    }
+    
+    /**
+     * Sets array of all "url-pattern" elements
+     */
+    public void setUrlPatternArray(java.lang.String[] urlPattern)
+    {
+        this._urlPattern = urlPattern;
+    }
+    
+    /**
+     * Gets the "el-enabled" element
+     */
+    public java.lang.Boolean getElEnabled()
+    {
+        return _elEnabled;
+    }
+    
+    /**
+     * Sets the "el-enabled" element
+     */
+    public void setElEnabled(java.lang.Boolean elEnabled)
+    {
+        this._elEnabled = elEnabled;
+    }
+    
+    /**
+     * Gets the "page-encoding" element
+     */
+    public java.lang.String getPageEncoding()
+    {
+        return _pageEncoding;
+    }
+    
+    /**
+     * Sets the "page-encoding" element
+     */
+    public void setPageEncoding(java.lang.String pageEncoding)
+    {
+        this._pageEncoding = pageEncoding;
+    }
+    
+    /**
+     * Gets the "scripting-enabled" element
+     */
+    public java.lang.Boolean getScriptingEnabled()
+    {
+        return _scriptingEnabled;
+    }
+    
+    /**
+     * Sets the "scripting-enabled" element
+     */
+    public void setScriptingEnabled(java.lang.Boolean scriptingEnabled)
+    {
+        this._scriptingEnabled = scriptingEnabled;
+    }
+    
+    /**
+     * Gets the "is-xml" element
+     */
+    public java.lang.Boolean getIsXml()
+    {
+        return _isXml;
+    }
+    
+    /**
+     * Sets the "is-xml" element
+     */
+    public void setIsXml(java.lang.Boolean isXml)
+    {
+        this._isXml = isXml;
+    }
+    
+    /**
+     * Gets array of all "include-prelude" elements
+     */
+    public java.lang.String[] getIncludePreludeArray()
+    {
+        return _includePrelude;
+    }
+    
+    /**
+     * Sets array of all "include-prelude" elements
+     */
+    public void setIncludePreludeArray(java.lang.String[] includePrelude)
+    {
+        this._includePrelude = includePrelude;
+    }
+    
+    /**
+     * Gets array of all "include-coda" elements
+     */
+    public java.lang.String[] getIncludeCodaArray()
+    {
+        return _includeCoda;
+    }
+    
+    /**
+     * Sets array of all "include-coda" elements
+     */
+    public void setIncludeCodaArray(java.lang.String[] includeCoda)
+    {
+        this._includeCoda = includeCoda;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static JspPropertyGroupType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        JspPropertyGroupType result = new JspPropertyGroupType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        java.lang.String[] urlPatternArray = new java.lang.String[0]; int urlPatternCount = 0;
+        java.lang.String[] includePreludeArray = new java.lang.String[0]; int includePreludeCount = 0;
+        java.lang.String[] includeCodaArray = new java.lang.String[0]; int includeCodaCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("url-pattern".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (urlPatternCount == urlPatternArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[urlPatternCount * 2 + 4];
+                    java.lang.System.arraycopy(urlPatternArray, 0, grown, 0, urlPatternCount);
+                    urlPatternArray = grown;
+                }
+                urlPatternArray[urlPatternCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("el-enabled".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._elEnabled = java.lang.Boolean.valueOf(reader.getBooleanValue());
+            }
+            else if ("page-encoding".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._pageEncoding = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("scripting-enabled".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._scriptingEnabled = java.lang.Boolean.valueOf(reader.getBooleanValue());
+            }
+            else if ("is-xml".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._isXml = java.lang.Boolean.valueOf(reader.getBooleanValue());
+            }
+            else if ("include-prelude".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (includePreludeCount == includePreludeArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[includePreludeCount * 2 + 4];
+                    java.lang.System.arraycopy(includePreludeArray, 0, grown, 0, includePreludeCount);
+                    includePreludeArray = grown;
+                }
+                includePreludeArray[includePreludeCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("include-coda".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (includeCodaCount == includeCodaArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[includeCodaCount * 2 + 4];
+                    java.lang.System.arraycopy(includeCodaArray, 0, grown, 0, includeCodaCount);
+                    includeCodaArray = grown;
+                }
+                includeCodaArray[includeCodaCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (urlPatternCount != urlPatternArray.length)
+        {
+            result._urlPattern = new java.lang.String[urlPatternCount];
+            java.lang.System.arraycopy(urlPatternArray, 0, result._urlPattern, 0, urlPatternCount);
+        }
+        else
+            result._urlPattern = urlPatternArray;
+        
+        if (includePreludeCount != includePreludeArray.length)
+        {
+            result._includePrelude = new java.lang.String[includePreludeCount];
+            java.lang.System.arraycopy(includePreludeArray, 0, result._includePrelude, 0, includePreludeCount);
+        }
+        else
+            result._includePrelude = includePreludeArray;
+        
+        if (includeCodaCount != includeCodaArray.length)
+        {
+            result._includeCoda = new java.lang.String[includeCodaCount];
+            java.lang.System.arraycopy(includeCodaArray, 0, result._includeCoda, 0, includeCodaCount);
+        }
+        else
+            result._includeCoda = includeCodaArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._urlPattern != null)
+        {
+            for (int i = 0; i < this._urlPattern.length; i++)
+            {
+                if (this._urlPattern[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "url-pattern", ns);
+                    writer.writeCharacters(this._urlPattern[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._elEnabled != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "el-enabled", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printBoolean(this._elEnabled.booleanValue()));
+            writer.writeEndElement();
+        }
+        if (this._pageEncoding != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "page-encoding", ns);
+            writer.writeCharacters(this._pageEncoding);
+            writer.writeEndElement();
+        }
+        if (this._scriptingEnabled != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "scripting-enabled", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printBoolean(this._scriptingEnabled.booleanValue()));
+            writer.writeEndElement();
+        }
+        if (this._isXml != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "is-xml", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printBoolean(this._isXml.booleanValue()));
+            writer.writeEndElement();
+        }
+        if (this._includePrelude != null)
+        {
+            for (int i = 0; i < this._includePrelude.length; i++)
+            {
+                if (this._includePrelude[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "include-prelude", ns);
+                    writer.writeCharacters(this._includePrelude[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._includeCoda != null)
+        {
+            for (int i = 0; i < this._includeCoda.length; i++)
+            {
+                if (this._includeCoda[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "include-coda", ns);
+                    writer.writeCharacters(this._includeCoda[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
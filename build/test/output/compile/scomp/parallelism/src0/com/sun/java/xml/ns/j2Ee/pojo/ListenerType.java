@@ -0,0 +1,219 @@
+/*
+ * XML Type:  listenerType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ListenerType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML listenerType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ListenerType.
+ */
+public class ListenerType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private com.sun.java.xml.ns.j2Ee.pojo.IconType[] _icon;
+    private java.lang.String _listenerClass;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.IconType[] getIconArray()
+    {
+        return _icon;
+    }
+    
+    /**
+     * Sets array of all "icon" elements
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.pojo.IconType[] icon)
+    {
+        this._icon = icon;
+    }
+    
+    /**
+     * Gets the "listener-class" element
+     */
+    public java.lang.String getListenerClass()
+    {
+        return _listenerClass;
+    }
+    
+    /**
+     * Sets the "listener-class" element
+     */
+    public void setListenerClass(java.lang.String listenerClass)
+    {
+        this._listenerClass = listenerClass;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ListenerType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ListenerType result = new ListenerType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.IconType[] iconArray = new com.sun.java.xml.ns.j2Ee.pojo.IconType[0]; int iconCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (iconCount == iconArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.IconType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount * 2 + 4];
+                    java.lang.System.arraycopy(iconArray, 0, grown, 0, iconCount);
+                    iconArray = grown;
+                }
+                iconArray[iconCount++] = com.sun.java.xml.ns.j2Ee.pojo.IconType.read(reader);
+            }
+            else if ("listener-class".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._listenerClass = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (iconCount != iconArray.length)
+        {
+            result._icon = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount];
+            java.lang.System.arraycopy(iconArray, 0, result._icon, 0, iconCount);
+        }
+        else
+            result._icon = iconArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._icon != null)
+        {
+            for (int i = 0; i < this._icon.length; i++)
+            {
+                if (this._icon[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "icon", ns);
+                    this._icon[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._listenerClass != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "listener-class", ns);
+            writer.writeCharacters(this._listenerClass);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * XML Type:  message-destination-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML message-destination-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.MessageDestinationRefType.
+ */
+public class MessageDestinationRefType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private java.lang.String _messageDestinationRefName;
+    private java.lang.String _messageDestinationType;
+    private java.lang.String _messageDestinationUsage;
+    private java.lang.String _messageDestinationLink;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "message-destination-ref-name" element
+     */
+    public java.lang.String getMessageDestinationRefName()
+    {
+        return _messageDestinationRefName;
+    }
+    
+    /**
+     * Sets the "message-destination-ref-name" element
+     */
+    public void setMessageDestinationRefName(java.lang.String messageDestinationRefName)
+    {
+        this._messageDestinationRefName = messageDestinationRefName;
+    }
+    
+    /**
+     * Gets the "message-destination-type" element
+     */
+    public java.lang.String getMessageDestinationType()
+    {
+        return _messageDestinationType;
+    }
+    
+    /**
+     * Sets the "message-destination-type" element
+     */
+    public void setMessageDestinationType(java.lang.String messageDestinationType)
+    {
+        this._messageDestinationType = messageDestinationType;
+    }
+    
+    /**
+     * Gets the "message-destination-usage" element
+     */
+    public java.lang.String getMessageDestinationUsage()
+    {
+        return _messageDestinationUsage;
+    }
+    
+    /**
+     * Sets the "message-destination-usage" element
+     */
+    public void setMessageDestinationUsage(java.lang.String messageDestinationUsage)
+    {
+        this._messageDestinationUsage = messageDestinationUsage;
+    }
+    
+    /**
+     * Gets the "message-destination-link" element
+     */
+    public java.lang.String getMessageDestinationLink()
+    {
+        return _messageDestinationLink;
+    }
+    
+    /**
+     * Sets the "message-destination-link" element
+     */
+    public void setMessageDestinationLink(java.lang.String messageDestinationLink)
+    {
+        this._messageDestinationLink = messageDestinationLink;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static MessageDestinationRefType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        MessageDestinationRefType result = new MessageDestinationRefType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("message-destination-ref-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._messageDestinationRefName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("message-destination-type".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._messageDestinationType = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("message-destination-usage".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._messageDestinationUsage = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("message-destination-link".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._messageDestinationLink = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._messageDestinationRefName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-ref-name", ns);
+            writer.writeCharacters(this._messageDestinationRefName);
+            writer.writeEndElement();
+        }
+        if (this._messageDestinationType != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-type", ns);
+            writer.writeCharacters(this._messageDestinationType);
+            writer.writeEndElement();
+        }
+        if (this._messageDestinationUsage != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-usage", ns);
+            writer.writeCharacters(this._messageDestinationUsage);
+            writer.writeEndElement();
+        }
+        if (this._messageDestinationLink != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-link", ns);
+            writer.writeCharacters(this._messageDestinationLink);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * XML Type:  param-valueType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ParamValueType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML param-valueType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ParamValueType.
+ */
+public class ParamValueType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private java.lang.String _paramName;
+    private java.lang.String _paramValue;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "param-name" element
+     */
+    public java.lang.String getParamName()
+    {
+        return _paramName;
+    }
+    
+    /**
+     * Sets the "param-name" element
+     */
+    public void setParamName(java.lang.String paramName)
+    {
+        this._paramName = paramName;
+    }
+    
+    /**
+     * Gets the "param-value" element
+     */
+    public java.lang.String getParamValue()
+    {
+        return _paramValue;
+    }
+    
+    /**
+     * Sets the "param-value" element
+     */
+    public void setParamValue(java.lang.String paramValue)
+    {
+        this._paramValue = paramValue;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ParamValueType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ParamValueType result = new ParamValueType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("param-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._paramName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("param-value".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._paramValue = reader.getStringValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._paramName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "param-name", ns);
+            writer.writeCharacters(this._paramName);
+            writer.writeEndElement();
+        }
+        if (this._paramValue != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "param-value", ns);
+            writer.writeCharacters(this._paramValue);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  servlet-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML servlet-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ServletMappingType.
+ */
+public class ServletMappingType
+{
+    private java.lang.String _servletName;
+    private java.lang.String _urlPattern;
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        return _servletName;
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        this._servletName = servletName;
+    }
+    
+    /**
+     * Gets the "url-pattern" element
+     */
+    public java.lang.String getUrlPattern()
+    {
+        return _urlPattern;
+    }
+    
+    /**
+     * Sets the "url-pattern" element
+     */
+    public void setUrlPattern(java.lang.String urlPattern)
+    {
+        this._urlPattern = urlPattern;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ServletMappingType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ServletMappingType result = new ServletMappingType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("servlet-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._servletName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("url-pattern".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._urlPattern = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._servletName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet-name", ns);
+            writer.writeCharacters(this._servletName);
+            writer.writeEndElement();
+        }
+        if (this._urlPattern != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "url-pattern", ns);
+            writer.writeCharacters(this._urlPattern);
+            writer.writeEndElement();
+        }
+    }
+}
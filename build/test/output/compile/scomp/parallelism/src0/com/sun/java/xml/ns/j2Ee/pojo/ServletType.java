@@ -0,0 +1,471 @@
+/*
+ * XML Type:  servletType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ServletType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML servletType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ServletType.
+ */
+public class ServletType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private com.sun.java.xml.ns.j2Ee.pojo.IconType[] _icon;
+    private java.lang.String _servletName;
+    private java.lang.String _servletClass;
+    private java.lang.String _jspFile;
+    private com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] _initParam;
+    private java.math.BigInteger _loadOnStartup;
+    private com.sun.java.xml.ns.j2Ee.pojo.RunAsType _runAs;
+    private com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[] _securityRoleRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] _deploymentExtension;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.IconType[] getIconArray()
+    {
+        return _icon;
+    }
+    
+    /**
+     * Sets array of all "icon" elements
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.pojo.IconType[] icon)
+    {
+        this._icon = icon;
+    }
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        return _servletName;
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        this._servletName = servletName;
+    }
+    
+    /**
+     * Gets the "servlet-class" element
+     */
+    public java.lang.String getServletClass()
+    {
+        return _servletClass;
+    }
+    
+    /**
+     * Sets the "servlet-class" element
+     */
+    public void setServletClass(java.lang.String servletClass)
+    {
+        this._servletClass = servletClass;
+    }
+    
+    /**
+     * Gets the "jsp-file" element
+     */
+    public java.lang.String getJspFile()
+    {
+        return _jspFile;
+    }
+    
+    /**
+     * Sets the "jsp-file" element
+     */
+    public void setJspFile(java.lang.String jspFile)
+    {
+        this._jspFile = jspFile;
+    }
+    
+    /**
+     * Gets array of all "init-param" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] getInitParamArray()
+    {
+        return _initParam;
+    }
+    
+    /**
+     * Sets array of all "init-param" elements
+     */
+    public void setInitParamArray(com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] initParam)
+    {
+        this._initParam = initParam;
+    }
+    
+    /**
+     * Gets the "load-on-startup" element
+     */
+    public java.math.BigInteger getLoadOnStartup()
+    {
+        return _loadOnStartup;
+    }
+    
+    /**
+     * Sets the "load-on-startup" element
+     */
+    public void setLoadOnStartup(java.math.BigInteger loadOnStartup)
+    {
+        this._loadOnStartup = loadOnStartup;
+    }
+    
+    /**
+     * Gets the "run-as" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.RunAsType getRunAs()
+    {
+        return _runAs;
+    }
+    
+    /**
+     * Sets the "run-as" element
+     */
+    public void setRunAs(com.sun.java.xml.ns.j2Ee.pojo.RunAsType runAs)
+    {
+        this._runAs = runAs;
+    }
+    
+    /**
+     * Gets array of all "security-role-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[] getSecurityRoleRefArray()
+    {
+        return _securityRoleRef;
+    }
+    
+    /**
+     * Sets array of all "security-role-ref" elements
+     */
+    public void setSecurityRoleRefArray(com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[] securityRoleRef)
+    {
+        this._securityRoleRef = securityRoleRef;
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        return _deploymentExtension;
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" elements
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtension)
+    {
+        this._deploymentExtension = deploymentExtension;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ServletType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ServletType result = new ServletType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.IconType[] iconArray = new com.sun.java.xml.ns.j2Ee.pojo.IconType[0]; int iconCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] initParamArray = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[0]; int initParamCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[] securityRoleRefArray = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[0]; int securityRoleRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtensionArray = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[0]; int deploymentExtensionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (iconCount == iconArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.IconType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount * 2 + 4];
+                    java.lang.System.arraycopy(iconArray, 0, grown, 0, iconCount);
+                    iconArray = grown;
+                }
+                iconArray[iconCount++] = com.sun.java.xml.ns.j2Ee.pojo.IconType.read(reader);
+            }
+            else if ("servlet-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._servletName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("servlet-class".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._servletClass = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("jsp-file".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._jspFile = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("init-param".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (initParamCount == initParamArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[initParamCount * 2 + 4];
+                    java.lang.System.arraycopy(initParamArray, 0, grown, 0, initParamCount);
+                    initParamArray = grown;
+                }
+                initParamArray[initParamCount++] = com.sun.java.xml.ns.j2Ee.pojo.ParamValueType.read(reader);
+            }
+            else if ("load-on-startup".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._loadOnStartup = reader.getBigIntegerValue();
+            }
+            else if ("run-as".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._runAs = com.sun.java.xml.ns.j2Ee.pojo.RunAsType.read(reader);
+            }
+            else if ("security-role-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (securityRoleRefCount == securityRoleRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[securityRoleRefCount * 2 + 4];
+                    java.lang.System.arraycopy(securityRoleRefArray, 0, grown, 0, securityRoleRefCount);
+                    securityRoleRefArray = grown;
+                }
+                securityRoleRefArray[securityRoleRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType.read(reader);
+            }
+            else if ("deployment-extension".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (deploymentExtensionCount == deploymentExtensionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount * 2 + 4];
+                    java.lang.System.arraycopy(deploymentExtensionArray, 0, grown, 0, deploymentExtensionCount);
+                    deploymentExtensionArray = grown;
+                }
+                deploymentExtensionArray[deploymentExtensionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (iconCount != iconArray.length)
+        {
+            result._icon = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount];
+            java.lang.System.arraycopy(iconArray, 0, result._icon, 0, iconCount);
+        }
+        else
+            result._icon = iconArray;
+        
+        if (initParamCount != initParamArray.length)
+        {
+            result._initParam = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[initParamCount];
+            java.lang.System.arraycopy(initParamArray, 0, result._initParam, 0, initParamCount);
+        }
+        else
+            result._initParam = initParamArray;
+        
+        if (securityRoleRefCount != securityRoleRefArray.length)
+        {
+            result._securityRoleRef = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleRefType[securityRoleRefCount];
+            java.lang.System.arraycopy(securityRoleRefArray, 0, result._securityRoleRef, 0, securityRoleRefCount);
+        }
+        else
+            result._securityRoleRef = securityRoleRefArray;
+        
+        if (deploymentExtensionCount != deploymentExtensionArray.length)
+        {
+            result._deploymentExtension = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount];
+            java.lang.System.arraycopy(deploymentExtensionArray, 0, result._deploymentExtension, 0, deploymentExtensionCount);
+        }
+        else
+            result._deploymentExtension = deploymentExtensionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._icon != null)
+        {
+            for (int i = 0; i < this._icon.length; i++)
+            {
+                if (this._icon[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "icon", ns);
+                    this._icon[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._servletName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet-name", ns);
+            writer.writeCharacters(this._servletName);
+            writer.writeEndElement();
+        }
+        if (this._servletClass != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet-class", ns);
+            writer.writeCharacters(this._servletClass);
+            writer.writeEndElement();
+        }
+        if (this._jspFile != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "jsp-file", ns);
+            writer.writeCharacters(this._jspFile);
+            writer.writeEndElement();
+        }
+        if (this._initParam != null)
+        {
+            for (int i = 0; i < this._initParam.length; i++)
+            {
+                if (this._initParam[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "init-param", ns);
+                    this._initParam[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._loadOnStartup != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "load-on-startup", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._loadOnStartup));
+            writer.writeEndElement();
+        }
+        if (this._runAs != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "run-as", ns);
+            this._runAs.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._securityRoleRef != null)
+        {
+            for (int i = 0; i < this._securityRoleRef.length; i++)
+            {
+                if (this._securityRoleRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "security-role-ref", ns);
+                    this._securityRoleRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._deploymentExtension != null)
+        {
+            for (int i = 0; i < this._deploymentExtension.length; i++)
+            {
+                if (this._deploymentExtension[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "deployment-extension", ns);
+                    this._deploymentExtension[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * XML Type:  session-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.SessionConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML session-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.SessionConfigType.
+ */
+public class SessionConfigType
+{
+    private java.math.BigInteger _sessionTimeout;
+    
+    /**
+     * Gets the "session-timeout" element
+     */
+    public java.math.BigInteger getSessionTimeout()
+    {
+        return _sessionTimeout;
+    }
+    
+    /**
+     * Sets the "session-timeout" element
+     */
+    public void setSessionTimeout(java.math.BigInteger sessionTimeout)
+    {
+        this._sessionTimeout = sessionTimeout;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static SessionConfigType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SessionConfigType result = new SessionConfigType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("session-timeout".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._sessionTimeout = reader.getBigIntegerValue();
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._sessionTimeout != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "session-timeout", ns);
+            writer.writeCharacters(org.apache.xmlbeans.impl.util.XsTypeConverter.printInteger(this._sessionTimeout));
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * An XML document type.
+ * Localname: web-app
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.WebAppDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * A document containing one web-app(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.WebAppDocument.
+ */
+public class WebAppDocument
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.WebAppType _webApp;
+    
+    /**
+     * Gets the "web-app" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.WebAppType getWebApp()
+    {
+        return _webApp;
+    }
+    
+    /**
+     * Sets the "web-app" element
+     */
+    public void setWebApp(com.sun.java.xml.ns.j2Ee.pojo.WebAppType webApp)
+    {
+        this._webApp = webApp;
+    }
+    
+    /**
+     * Reads an instance from the next element of the reader, which must
+     * be web-app(@http://java.sun.com/xml/ns/j2ee), and leaves the reader on the end of
+     * that element.
+     */
+    public static WebAppDocument read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WebAppDocument result = new WebAppDocument();
+        org.apache.xmlbeans.impl.richParser.BindingSupport.toElement(reader, "http://java.sun.com/xml/ns/j2ee", "web-app");
+        {
+            result._webApp = com.sun.java.xml.ns.j2Ee.pojo.WebAppType.read(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Parses an instance from a reader.
+     */
+    public static WebAppDocument parse(javax.xml.stream.XMLStreamReader reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        return read(org.apache.xmlbeans.impl.richParser.BindingSupport.toExt(reader));
+    }
+    
+    /**
+     * Parses an instance from a stream.
+     */
+    public static WebAppDocument parse(java.io.InputStream in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Parses an instance from characters.
+     */
+    public static WebAppDocument parse(java.io.Reader in)
+        throws javax.xml.stream.XMLStreamException
+    {
+        org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader = org.apache.xmlbeans.impl.richParser.BindingSupport.newReader(in);
+        try
+        {
+            return read(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+    
+    /**
+     * Writes the document element.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer)
+        throws javax.xml.stream.XMLStreamException
+    {
+        write(writer, "");
+    }
+    
+    /**
+     * Writes the document element where ns is the default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._webApp != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "web-app", ns);
+            this._webApp.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+    }
+}
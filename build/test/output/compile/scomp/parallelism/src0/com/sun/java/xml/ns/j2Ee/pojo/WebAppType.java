@@ -0,0 +1,1247 @@
+/*
+ * XML Type:  web-appType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.WebAppType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML web-appType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.WebAppType.
+ */
+public class WebAppType
+{
+    private java.lang.String _version;
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private com.sun.java.xml.ns.j2Ee.pojo.IconType[] _icon;
+    private com.sun.java.xml.ns.j2Ee.pojo.EmptyType _distributable;
+    private com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] _contextParam;
+    private com.sun.java.xml.ns.j2Ee.pojo.FilterType[] _filter;
+    private com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[] _filterMapping;
+    private com.sun.java.xml.ns.j2Ee.pojo.ListenerType[] _listener;
+    private com.sun.java.xml.ns.j2Ee.pojo.ServletType[] _servlet;
+    private com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[] _servletMapping;
+    private com.sun.java.xml.ns.j2Ee.pojo.SessionConfigType _sessionConfig;
+    private com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[] _mimeMapping;
+    private com.sun.java.xml.ns.j2Ee.pojo.WelcomeFileListType _welcomeFileList;
+    private com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[] _errorPage;
+    private com.sun.java.xml.ns.j2Ee.pojo.JspConfigType _jspConfig;
+    private com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] _resourceEnvRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] _messageDestinationRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] _resourceRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[] _securityConstraint;
+    private com.sun.java.xml.ns.j2Ee.pojo.LoginConfigType _loginConfig;
+    private com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[] _securityRole;
+    private com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] _envEntry;
+    private com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] _ejbRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[] _ejbLocalRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] _messageDestination;
+    private com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingListType _localeEncodingMappingList;
+    private com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] _deploymentExtension;
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.lang.String getVersion()
+    {
+        return _version;
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.lang.String version)
+    {
+        this._version = version;
+    }
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.IconType[] getIconArray()
+    {
+        return _icon;
+    }
+    
+    /**
+     * Sets array of all "icon" elements
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.pojo.IconType[] icon)
+    {
+        this._icon = icon;
+    }
+    
+    /**
+     * Gets the "distributable" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EmptyType getDistributable()
+    {
+        return _distributable;
+    }
+    
+    /**
+     * Sets the "distributable" element
+     */
+    public void setDistributable(com.sun.java.xml.ns.j2Ee.pojo.EmptyType distributable)
+    {
+        this._distributable = distributable;
+    }
+    
+    /**
+     * Gets array of all "context-param" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] getContextParamArray()
+    {
+        return _contextParam;
+    }
+    
+    /**
+     * Sets array of all "context-param" elements
+     */
+    public void setContextParamArray(com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] contextParam)
+    {
+        this._contextParam = contextParam;
+    }
+    
+    /**
+     * Gets array of all "filter" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.FilterType[] getFilterArray()
+    {
+        return _filter;
+    }
+    
+    /**
+     * Sets array of all "filter" elements
+     */
+    public void setFilterArray(com.sun.java.xml.ns.j2Ee.pojo.FilterType[] filter)
+    {
+        this._filter = filter;
+    }
+    
+    /**
+     * Gets array of all "filter-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[] getFilterMappingArray()
+    {
+        return _filterMapping;
+    }
+    
+    /**
+     * Sets array of all "filter-mapping" elements
+     */
+    public void setFilterMappingArray(com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[] filterMapping)
+    {
+        this._filterMapping = filterMapping;
+    }
+    
+    /**
+     * Gets array of all "listener" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ListenerType[] getListenerArray()
+    {
+        return _listener;
+    }
+    
+    /**
+     * Sets array of all "listener" elements
+     */
+    public void setListenerArray(com.sun.java.xml.ns.j2Ee.pojo.ListenerType[] listener)
+    {
+        this._listener = listener;
+    }
+    
+    /**
+     * Gets array of all "servlet" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ServletType[] getServletArray()
+    {
+        return _servlet;
+    }
+    
+    /**
+     * Sets array of all "servlet" elements
+     */
+    public void setServletArray(com.sun.java.xml.ns.j2Ee.pojo.ServletType[] servlet)
+    {
+        this._servlet = servlet;
+    }
+    
+    /**
+     * Gets array of all "servlet-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[] getServletMappingArray()
+    {
+        return _servletMapping;
+    }
+    
+    /**
+     * Sets array of all "servlet-mapping" elements
+     */
+    public void setServletMappingArray(com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[] servletMapping)
+    {
+        this._servletMapping = servletMapping;
+    }
+    
+    /**
+     * Gets the "session-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.SessionConfigType getSessionConfig()
+    {
+        return _sessionConfig;
+    }
+    
+    /**
+     * Sets the "session-config" element
+     */
+    public void setSessionConfig(com.sun.java.xml.ns.j2Ee.pojo.SessionConfigType sessionConfig)
+    {
+        this._sessionConfig = sessionConfig;
+    }
+    
+    /**
+     * Gets array of all "mime-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[] getMimeMappingArray()
+    {
+        return _mimeMapping;
+    }
+    
+    /**
+     * Sets array of all "mime-mapping" elements
+     */
+    public void setMimeMappingArray(com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[] mimeMapping)
+    {
+        this._mimeMapping = mimeMapping;
+    }
+    
+    /**
+     * Gets the "welcome-file-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.WelcomeFileListType getWelcomeFileList()
+    {
+        return _welcomeFileList;
+    }
+    
+    /**
+     * Sets the "welcome-file-list" element
+     */
+    public void setWelcomeFileList(com.sun.java.xml.ns.j2Ee.pojo.WelcomeFileListType welcomeFileList)
+    {
+        this._welcomeFileList = welcomeFileList;
+    }
+    
+    /**
+     * Gets array of all "error-page" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[] getErrorPageArray()
+    {
+        return _errorPage;
+    }
+    
+    /**
+     * Sets array of all "error-page" elements
+     */
+    public void setErrorPageArray(com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[] errorPage)
+    {
+        this._errorPage = errorPage;
+    }
+    
+    /**
+     * Gets the "jsp-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.JspConfigType getJspConfig()
+    {
+        return _jspConfig;
+    }
+    
+    /**
+     * Sets the "jsp-config" element
+     */
+    public void setJspConfig(com.sun.java.xml.ns.j2Ee.pojo.JspConfigType jspConfig)
+    {
+        this._jspConfig = jspConfig;
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        return _resourceEnvRef;
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" elements
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] resourceEnvRef)
+    {
+        this._resourceEnvRef = resourceEnvRef;
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        return _messageDestinationRef;
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" elements
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] messageDestinationRef)
+    {
+        this._messageDestinationRef = messageDestinationRef;
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] getResourceRefArray()
+    {
+        return _resourceRef;
+    }
+    
+    /**
+     * Sets array of all "resource-ref" elements
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] resourceRef)
+    {
+        this._resourceRef = resourceRef;
+    }
+    
+    /**
+     * Gets array of all "security-constraint" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[] getSecurityConstraintArray()
+    {
+        return _securityConstraint;
+    }
+    
+    /**
+     * Sets array of all "security-constraint" elements
+     */
+    public void setSecurityConstraintArray(com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[] securityConstraint)
+    {
+        this._securityConstraint = securityConstraint;
+    }
+    
+    /**
+     * Gets the "login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.LoginConfigType getLoginConfig()
+    {
+        return _loginConfig;
+    }
+    
+    /**
+     * Sets the "login-config" element
+     */
+    public void setLoginConfig(com.sun.java.xml.ns.j2Ee.pojo.LoginConfigType loginConfig)
+    {
+        this._loginConfig = loginConfig;
+    }
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[] getSecurityRoleArray()
+    {
+        return _securityRole;
+    }
+    
+    /**
+     * Sets array of all "security-role" elements
+     */
+    public void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[] securityRole)
+    {
+        this._securityRole = securityRole;
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] getEnvEntryArray()
+    {
+        return _envEntry;
+    }
+    
+    /**
+     * Sets array of all "env-entry" elements
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] envEntry)
+    {
+        this._envEntry = envEntry;
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] getEjbRefArray()
+    {
+        return _ejbRef;
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" elements
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] ejbRef)
+    {
+        this._ejbRef = ejbRef;
+    }
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[] getEjbLocalRefArray()
+    {
+        return _ejbLocalRef;
+    }
+    
+    /**
+     * Sets array of all "ejb-local-ref" elements
+     */
+    public void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[] ejbLocalRef)
+    {
+        this._ejbLocalRef = ejbLocalRef;
+    }
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] getMessageDestinationArray()
+    {
+        return _messageDestination;
+    }
+    
+    /**
+     * Sets array of all "message-destination" elements
+     */
+    public void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] messageDestination)
+    {
+        this._messageDestination = messageDestination;
+    }
+    
+    /**
+     * Gets the "locale-encoding-mapping-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingListType getLocaleEncodingMappingList()
+    {
+        return _localeEncodingMappingList;
+    }
+    
+    /**
+     * Sets the "locale-encoding-mapping-list" element
+     */
+    public void setLocaleEncodingMappingList(com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingListType localeEncodingMappingList)
+    {
+        this._localeEncodingMappingList = localeEncodingMappingList;
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        return _deploymentExtension;
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" elements
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtension)
+    {
+        this._deploymentExtension = deploymentExtension;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static WebAppType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WebAppType result = new WebAppType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.IconType[] iconArray = new com.sun.java.xml.ns.j2Ee.pojo.IconType[0]; int iconCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] contextParamArray = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[0]; int contextParamCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.FilterType[] filterArray = new com.sun.java.xml.ns.j2Ee.pojo.FilterType[0]; int filterCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[] filterMappingArray = new com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[0]; int filterMappingCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ListenerType[] listenerArray = new com.sun.java.xml.ns.j2Ee.pojo.ListenerType[0]; int listenerCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ServletType[] servletArray = new com.sun.java.xml.ns.j2Ee.pojo.ServletType[0]; int servletCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[] servletMappingArray = new com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[0]; int servletMappingCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[] mimeMappingArray = new com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[0]; int mimeMappingCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[] errorPageArray = new com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[0]; int errorPageCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] resourceEnvRefArray = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[0]; int resourceEnvRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] messageDestinationRefArray = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[0]; int messageDestinationRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] resourceRefArray = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[0]; int resourceRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[] securityConstraintArray = new com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[0]; int securityConstraintCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[] securityRoleArray = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[0]; int securityRoleCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] envEntryArray = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[0]; int envEntryCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] ejbRefArray = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[0]; int ejbRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[] ejbLocalRefArray = new com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[0]; int ejbLocalRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] messageDestinationArray = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[0]; int messageDestinationCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtensionArray = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[0]; int deploymentExtensionCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("version".equals(local) && "".equals(uri))
+                result._version = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (iconCount == iconArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.IconType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount * 2 + 4];
+                    java.lang.System.arraycopy(iconArray, 0, grown, 0, iconCount);
+                    iconArray = grown;
+                }
+                iconArray[iconCount++] = com.sun.java.xml.ns.j2Ee.pojo.IconType.read(reader);
+            }
+            else if ("distributable".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._distributable = com.sun.java.xml.ns.j2Ee.pojo.EmptyType.read(reader);
+            }
+            else if ("context-param".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (contextParamCount == contextParamArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[contextParamCount * 2 + 4];
+                    java.lang.System.arraycopy(contextParamArray, 0, grown, 0, contextParamCount);
+                    contextParamArray = grown;
+                }
+                contextParamArray[contextParamCount++] = com.sun.java.xml.ns.j2Ee.pojo.ParamValueType.read(reader);
+            }
+            else if ("filter".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (filterCount == filterArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.FilterType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.FilterType[filterCount * 2 + 4];
+                    java.lang.System.arraycopy(filterArray, 0, grown, 0, filterCount);
+                    filterArray = grown;
+                }
+                filterArray[filterCount++] = com.sun.java.xml.ns.j2Ee.pojo.FilterType.read(reader);
+            }
+            else if ("filter-mapping".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (filterMappingCount == filterMappingArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[filterMappingCount * 2 + 4];
+                    java.lang.System.arraycopy(filterMappingArray, 0, grown, 0, filterMappingCount);
+                    filterMappingArray = grown;
+                }
+                filterMappingArray[filterMappingCount++] = com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType.read(reader);
+            }
+            else if ("listener".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (listenerCount == listenerArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ListenerType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ListenerType[listenerCount * 2 + 4];
+                    java.lang.System.arraycopy(listenerArray, 0, grown, 0, listenerCount);
+                    listenerArray = grown;
+                }
+                listenerArray[listenerCount++] = com.sun.java.xml.ns.j2Ee.pojo.ListenerType.read(reader);
+            }
+            else if ("servlet".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (servletCount == servletArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ServletType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ServletType[servletCount * 2 + 4];
+                    java.lang.System.arraycopy(servletArray, 0, grown, 0, servletCount);
+                    servletArray = grown;
+                }
+                servletArray[servletCount++] = com.sun.java.xml.ns.j2Ee.pojo.ServletType.read(reader);
+            }
+            else if ("servlet-mapping".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (servletMappingCount == servletMappingArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[servletMappingCount * 2 + 4];
+                    java.lang.System.arraycopy(servletMappingArray, 0, grown, 0, servletMappingCount);
+                    servletMappingArray = grown;
+                }
+                servletMappingArray[servletMappingCount++] = com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType.read(reader);
+            }
+            else if ("session-config".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._sessionConfig = com.sun.java.xml.ns.j2Ee.pojo.SessionConfigType.read(reader);
+            }
+            else if ("mime-mapping".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (mimeMappingCount == mimeMappingArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[mimeMappingCount * 2 + 4];
+                    java.lang.System.arraycopy(mimeMappingArray, 0, grown, 0, mimeMappingCount);
+                    mimeMappingArray = grown;
+                }
+                mimeMappingArray[mimeMappingCount++] = com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType.read(reader);
+            }
+            else if ("welcome-file-list".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._welcomeFileList = com.sun.java.xml.ns.j2Ee.pojo.WelcomeFileListType.read(reader);
+            }
+            else if ("error-page".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (errorPageCount == errorPageArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[errorPageCount * 2 + 4];
+                    java.lang.System.arraycopy(errorPageArray, 0, grown, 0, errorPageCount);
+                    errorPageArray = grown;
+                }
+                errorPageArray[errorPageCount++] = com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType.read(reader);
+            }
+            else if ("jsp-config".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._jspConfig = com.sun.java.xml.ns.j2Ee.pojo.JspConfigType.read(reader);
+            }
+            else if ("resource-env-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (resourceEnvRefCount == resourceEnvRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[resourceEnvRefCount * 2 + 4];
+                    java.lang.System.arraycopy(resourceEnvRefArray, 0, grown, 0, resourceEnvRefCount);
+                    resourceEnvRefArray = grown;
+                }
+                resourceEnvRefArray[resourceEnvRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType.read(reader);
+            }
+            else if ("message-destination-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (messageDestinationRefCount == messageDestinationRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[messageDestinationRefCount * 2 + 4];
+                    java.lang.System.arraycopy(messageDestinationRefArray, 0, grown, 0, messageDestinationRefCount);
+                    messageDestinationRefArray = grown;
+                }
+                messageDestinationRefArray[messageDestinationRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType.read(reader);
+            }
+            else if ("resource-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (resourceRefCount == resourceRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[resourceRefCount * 2 + 4];
+                    java.lang.System.arraycopy(resourceRefArray, 0, grown, 0, resourceRefCount);
+                    resourceRefArray = grown;
+                }
+                resourceRefArray[resourceRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType.read(reader);
+            }
+            else if ("security-constraint".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (securityConstraintCount == securityConstraintArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[securityConstraintCount * 2 + 4];
+                    java.lang.System.arraycopy(securityConstraintArray, 0, grown, 0, securityConstraintCount);
+                    securityConstraintArray = grown;
+                }
+                securityConstraintArray[securityConstraintCount++] = com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType.read(reader);
+            }
+            else if ("login-config".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._loginConfig = com.sun.java.xml.ns.j2Ee.pojo.LoginConfigType.read(reader);
+            }
+            else if ("security-role".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (securityRoleCount == securityRoleArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[securityRoleCount * 2 + 4];
+                    java.lang.System.arraycopy(securityRoleArray, 0, grown, 0, securityRoleCount);
+                    securityRoleArray = grown;
+                }
+                securityRoleArray[securityRoleCount++] = com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType.read(reader);
+            }
+            else if ("env-entry".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (envEntryCount == envEntryArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[envEntryCount * 2 + 4];
+                    java.lang.System.arraycopy(envEntryArray, 0, grown, 0, envEntryCount);
+                    envEntryArray = grown;
+                }
+                envEntryArray[envEntryCount++] = com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType.read(reader);
+            }
+            else if ("ejb-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (ejbRefCount == ejbRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[ejbRefCount * 2 + 4];
+                    java.lang.System.arraycopy(ejbRefArray, 0, grown, 0, ejbRefCount);
+                    ejbRefArray = grown;
+                }
+                ejbRefArray[ejbRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.EjbRefType.read(reader);
+            }
+            else if ("ejb-local-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (ejbLocalRefCount == ejbLocalRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[ejbLocalRefCount * 2 + 4];
+                    java.lang.System.arraycopy(ejbLocalRefArray, 0, grown, 0, ejbLocalRefCount);
+                    ejbLocalRefArray = grown;
+                }
+                ejbLocalRefArray[ejbLocalRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType.read(reader);
+            }
+            else if ("message-destination".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (messageDestinationCount == messageDestinationArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[messageDestinationCount * 2 + 4];
+                    java.lang.System.arraycopy(messageDestinationArray, 0, grown, 0, messageDestinationCount);
+                    messageDestinationArray = grown;
+                }
+                messageDestinationArray[messageDestinationCount++] = com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType.read(reader);
+            }
+            else if ("locale-encoding-mapping-list".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._localeEncodingMappingList = com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingListType.read(reader);
+            }
+            else if ("deployment-extension".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (deploymentExtensionCount == deploymentExtensionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount * 2 + 4];
+                    java.lang.System.arraycopy(deploymentExtensionArray, 0, grown, 0, deploymentExtensionCount);
+                    deploymentExtensionArray = grown;
+                }
+                deploymentExtensionArray[deploymentExtensionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (iconCount != iconArray.length)
+        {
+            result._icon = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount];
+            java.lang.System.arraycopy(iconArray, 0, result._icon, 0, iconCount);
+        }
+        else
+            result._icon = iconArray;
+        
+        if (contextParamCount != contextParamArray.length)
+        {
+            result._contextParam = new com.sun.java.xml.ns.j2Ee.pojo.ParamValueType[contextParamCount];
+            java.lang.System.arraycopy(contextParamArray, 0, result._contextParam, 0, contextParamCount);
+        }
+        else
+            result._contextParam = contextParamArray;
+        
+        if (filterCount != filterArray.length)
+        {
+            result._filter = new com.sun.java.xml.ns.j2Ee.pojo.FilterType[filterCount];
+            java.lang.System.arraycopy(filterArray, 0, result._filter, 0, filterCount);
+        }
+        else
+            result._filter = filterArray;
+        
+        if (filterMappingCount != filterMappingArray.length)
+        {
+            result._filterMapping = new com.sun.java.xml.ns.j2Ee.pojo.FilterMappingType[filterMappingCount];
+            java.lang.System.arraycopy(filterMappingArray, 0, result._filterMapping, 0, filterMappingCount);
+        }
+        else
+            result._filterMapping = filterMappingArray;
+        
+        if (listenerCount != listenerArray.length)
+        {
+            result._listener = new com.sun.java.xml.ns.j2Ee.pojo.ListenerType[listenerCount];
+            java.lang.System.arraycopy(listenerArray, 0, result._listener, 0, listenerCount);
+        }
+        else
+            result._listener = listenerArray;
+        
+        if (servletCount != servletArray.length)
+        {
+            result._servlet = new com.sun.java.xml.ns.j2Ee.pojo.ServletType[servletCount];
+            java.lang.System.arraycopy(servletArray, 0, result._servlet, 0, servletCount);
+        }
+        else
+            result._servlet = servletArray;
+        
+        if (servletMappingCount != servletMappingArray.length)
+        {
+            result._servletMapping = new com.sun.java.xml.ns.j2Ee.pojo.ServletMappingType[servletMappingCount];
+            java.lang.System.arraycopy(servletMappingArray, 0, result._servletMapping, 0, servletMappingCount);
+        }
+        else
+            result._servletMapping = servletMappingArray;
+        
+        if (mimeMappingCount != mimeMappingArray.length)
+        {
+            result._mimeMapping = new com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType[mimeMappingCount];
+            java.lang.System.arraycopy(mimeMappingArray, 0, result._mimeMapping, 0, mimeMappingCount);
+        }
+        else
+            result._mimeMapping = mimeMappingArray;
+        
+        if (errorPageCount != errorPageArray.length)
+        {
+            result._errorPage = new com.sun.java.xml.ns.j2Ee.pojo.ErrorPageType[errorPageCount];
+            java.lang.System.arraycopy(errorPageArray, 0, result._errorPage, 0, errorPageCount);
+        }
+        else
+            result._errorPage = errorPageArray;
+        
+        if (resourceEnvRefCount != resourceEnvRefArray.length)
+        {
+            result._resourceEnvRef = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[resourceEnvRefCount];
+            java.lang.System.arraycopy(resourceEnvRefArray, 0, result._resourceEnvRef, 0, resourceEnvRefCount);
+        }
+        else
+            result._resourceEnvRef = resourceEnvRefArray;
+        
+        if (messageDestinationRefCount != messageDestinationRefArray.length)
+        {
+            result._messageDestinationRef = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[messageDestinationRefCount];
+            java.lang.System.arraycopy(messageDestinationRefArray, 0, result._messageDestinationRef, 0, messageDestinationRefCount);
+        }
+        else
+            result._messageDestinationRef = messageDestinationRefArray;
+        
+        if (resourceRefCount != resourceRefArray.length)
+        {
+            result._resourceRef = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[resourceRefCount];
+            java.lang.System.arraycopy(resourceRefArray, 0, result._resourceRef, 0, resourceRefCount);
+        }
+        else
+            result._resourceRef = resourceRefArray;
+        
+        if (securityConstraintCount != securityConstraintArray.length)
+        {
+            result._securityConstraint = new com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType[securityConstraintCount];
+            java.lang.System.arraycopy(securityConstraintArray, 0, result._securityConstraint, 0, securityConstraintCount);
+        }
+        else
+            result._securityConstraint = securityConstraintArray;
+        
+        if (securityRoleCount != securityRoleArray.length)
+        {
+            result._securityRole = new com.sun.java.xml.ns.j2Ee.pojo.SecurityRoleType[securityRoleCount];
+            java.lang.System.arraycopy(securityRoleArray, 0, result._securityRole, 0, securityRoleCount);
+        }
+        else
+            result._securityRole = securityRoleArray;
+        
+        if (envEntryCount != envEntryArray.length)
+        {
+            result._envEntry = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[envEntryCount];
+            java.lang.System.arraycopy(envEntryArray, 0, result._envEntry, 0, envEntryCount);
+        }
+        else
+            result._envEntry = envEntryArray;
+        
+        if (ejbRefCount != ejbRefArray.length)
+        {
+            result._ejbRef = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[ejbRefCount];
+            java.lang.System.arraycopy(ejbRefArray, 0, result._ejbRef, 0, ejbRefCount);
+        }
+        else
+            result._ejbRef = ejbRefArray;
+        
+        if (ejbLocalRefCount != ejbLocalRefArray.length)
+        {
+            result._ejbLocalRef = new com.sun.java.xml.ns.j2Ee.pojo.EjbLocalRefType[ejbLocalRefCount];
+            java.lang.System.arraycopy(ejbLocalRefArray, 0, result._ejbLocalRef, 0, ejbLocalRefCount);
+        }
+        else
+            result._ejbLocalRef = ejbLocalRefArray;
+        
+        if (messageDestinationCount != messageDestinationArray.length)
+        {
+            result._messageDestination = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[messageDestinationCount];
+            java.lang.System.arraycopy(messageDestinationArray, 0, result._messageDestination, 0, messageDestinationCount);
+        }
+        else
+            result._messageDestination = messageDestinationArray;
+        
+        if (deploymentExtensionCount != deploymentExtensionArray.length)
+        {
+            result._deploymentExtension = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount];
+            java.lang.System.arraycopy(deploymentExtensionArray, 0, result._deploymentExtension, 0, deploymentExtensionCount);
+        }
+        else
+            result._deploymentExtension = deploymentExtensionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._version != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "version", this._version);
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._icon != null)
+        {
+            for (int i = 0; i < this._icon.length; i++)
+            {
+                if (this._icon[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "icon", ns);
+                    this._icon[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._distributable != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "distributable", ns);
+            this._distributable.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._contextParam != null)
+        {
+            for (int i = 0; i < this._contextParam.length; i++)
+            {
+                if (this._contextParam[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "context-param", ns);
+                    this._contextParam[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._filter != null)
+        {
+            for (int i = 0; i < this._filter.length; i++)
+            {
+                if (this._filter[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "filter", ns);
+                    this._filter[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._filterMapping != null)
+        {
+            for (int i = 0; i < this._filterMapping.length; i++)
+            {
+                if (this._filterMapping[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "filter-mapping", ns);
+                    this._filterMapping[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._listener != null)
+        {
+            for (int i = 0; i < this._listener.length; i++)
+            {
+                if (this._listener[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "listener", ns);
+                    this._listener[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._servlet != null)
+        {
+            for (int i = 0; i < this._servlet.length; i++)
+            {
+                if (this._servlet[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet", ns);
+                    this._servlet[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._servletMapping != null)
+        {
+            for (int i = 0; i < this._servletMapping.length; i++)
+            {
+                if (this._servletMapping[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "servlet-mapping", ns);
+                    this._servletMapping[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._sessionConfig != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "session-config", ns);
+            this._sessionConfig.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._mimeMapping != null)
+        {
+            for (int i = 0; i < this._mimeMapping.length; i++)
+            {
+                if (this._mimeMapping[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "mime-mapping", ns);
+                    this._mimeMapping[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._welcomeFileList != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "welcome-file-list", ns);
+            this._welcomeFileList.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._errorPage != null)
+        {
+            for (int i = 0; i < this._errorPage.length; i++)
+            {
+                if (this._errorPage[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "error-page", ns);
+                    this._errorPage[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._jspConfig != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "jsp-config", ns);
+            this._jspConfig.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._resourceEnvRef != null)
+        {
+            for (int i = 0; i < this._resourceEnvRef.length; i++)
+            {
+                if (this._resourceEnvRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "resource-env-ref", ns);
+                    this._resourceEnvRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._messageDestinationRef != null)
+        {
+            for (int i = 0; i < this._messageDestinationRef.length; i++)
+            {
+                if (this._messageDestinationRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-ref", ns);
+                    this._messageDestinationRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._resourceRef != null)
+        {
+            for (int i = 0; i < this._resourceRef.length; i++)
+            {
+                if (this._resourceRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "resource-ref", ns);
+                    this._resourceRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._securityConstraint != null)
+        {
+            for (int i = 0; i < this._securityConstraint.length; i++)
+            {
+                if (this._securityConstraint[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "security-constraint", ns);
+                    this._securityConstraint[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._loginConfig != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "login-config", ns);
+            this._loginConfig.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._securityRole != null)
+        {
+            for (int i = 0; i < this._securityRole.length; i++)
+            {
+                if (this._securityRole[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "security-role", ns);
+                    this._securityRole[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._envEntry != null)
+        {
+            for (int i = 0; i < this._envEntry.length; i++)
+            {
+                if (this._envEntry[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "env-entry", ns);
+                    this._envEntry[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._ejbRef != null)
+        {
+            for (int i = 0; i < this._ejbRef.length; i++)
+            {
+                if (this._ejbRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-ref", ns);
+                    this._ejbRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._ejbLocalRef != null)
+        {
+            for (int i = 0; i < this._ejbLocalRef.length; i++)
+            {
+                if (this._ejbLocalRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-local-ref", ns);
+                    this._ejbLocalRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._messageDestination != null)
+        {
+            for (int i = 0; i < this._messageDestination.length; i++)
+            {
+                if (this._messageDestination[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination", ns);
+                    this._messageDestination[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._localeEncodingMappingList != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "locale-encoding-mapping-list", ns);
+            this._localeEncodingMappingList.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._deploymentExtension != null)
+        {
+            for (int i = 0; i < this._deploymentExtension.length; i++)
+            {
+                if (this._deploymentExtension[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "deployment-extension", ns);
+                    this._deploymentExtension[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * XML Type:  welcome-file-listType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.WelcomeFileListType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML welcome-file-listType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.WelcomeFileListType.
+ */
+public class WelcomeFileListType
+{
+    private java.lang.String[] _welcomeFile;
+    
+    /**
+     * Gets array of all "welcome-file" elements
+     */
+    public java.lang.String[] getWelcomeFileArray()
+    {
+        return _welcomeFile;
+    }
+    
+    /**
+     * Sets array of all "welcome-file" elements
+     */
+    public void setWelcomeFileArray(java.lang.String[] welcomeFile)
+    {
+        this._welcomeFile = welcomeFile;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static WelcomeFileListType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WelcomeFileListType result = new WelcomeFileListType();
+        java.lang.String[] welcomeFileArray = new java.lang.String[0]; int welcomeFileCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("welcome-file".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (welcomeFileCount == welcomeFileArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[welcomeFileCount * 2 + 4];
+                    java.lang.System.arraycopy(welcomeFileArray, 0, grown, 0, welcomeFileCount);
+                    welcomeFileArray = grown;
+                }
+                welcomeFileArray[welcomeFileCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (welcomeFileCount != welcomeFileArray.length)
+        {
+            result._welcomeFile = new java.lang.String[welcomeFileCount];
+            java.lang.System.arraycopy(welcomeFileArray, 0, result._welcomeFile, 0, welcomeFileCount);
+        }
+        else
+            result._welcomeFile = welcomeFileArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._welcomeFile != null)
+        {
+            for (int i = 0; i < this._welcomeFile.length; i++)
+            {
+                if (this._welcomeFile[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "welcome-file", ns);
+                    writer.writeCharacters(this._welcomeFile[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
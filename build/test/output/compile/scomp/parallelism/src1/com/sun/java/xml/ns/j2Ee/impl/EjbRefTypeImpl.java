@@ -0,0 +1,537 @@
+/*
+ * XML Type:  ejb-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EjbRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML ejb-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EjbRefTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EjbRefType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EjbRefTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName EJBREFNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref-name");
+    private static final javax.xml.namespace.QName EJBREFTYPE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref-type");
+    private static final javax.xml.namespace.QName HOME$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "home");
+    private static final javax.xml.namespace.QName REMOTE$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "remote");
+    private static final javax.xml.namespace.QName EJBLINK$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-link");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(6);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1928135830:
+                if (name.equals(EJBLINK$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -934610874:
+                if (name.equals(REMOTE$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 3208415:
+                if (name.equals(HOME$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 365189877:
+                if (name.equals(EJBREFNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 365391780:
+                if (name.equals(EJBREFTYPE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-ref-name" element
+     */
+    public java.lang.String getEjbRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBREFNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-ref-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefNameType xgetEjbRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefNameType)get_store().find_element_user(EJBREFNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-ref-name" element
+     */
+    public void setEjbRefName(java.lang.String ejbRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBREFNAME$2);
+            }
+            target.setStringValue(ejbRefName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-ref-name" element
+     */
+    public void xsetEjbRefName(com.sun.java.xml.ns.j2Ee.EjbRefNameType ejbRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefNameType)get_store().find_element_user(EJBREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbRefNameType)get_store().add_element_user(EJBREFNAME$2);
+            }
+            target.set(ejbRefName);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-ref-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefTypeType.Enum getEjbRefType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBREFTYPE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.EjbRefTypeType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-ref-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefTypeType xgetEjbRefType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefTypeType)get_store().find_element_user(EJBREFTYPE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-ref-type" element
+     */
+    public void setEjbRefType(com.sun.java.xml.ns.j2Ee.EjbRefTypeType.Enum ejbRefType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBREFTYPE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBREFTYPE$4);
+            }
+            target.setEnumValue(ejbRefType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-ref-type" element
+     */
+    public void xsetEjbRefType(com.sun.java.xml.ns.j2Ee.EjbRefTypeType ejbRefType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefTypeType)get_store().find_element_user(EJBREFTYPE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbRefTypeType)get_store().add_element_user(EJBREFTYPE$4);
+            }
+            target.set(ejbRefType);
+        }
+    }
+    
+    /**
+     * Gets the "home" element
+     */
+    public java.lang.String getHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "home" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HomeType xgetHome()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "home" element
+     */
+    public void setHome(java.lang.String home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HOME$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HOME$6);
+            }
+            target.setStringValue(home);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "home" element
+     */
+    public void xsetHome(com.sun.java.xml.ns.j2Ee.HomeType home)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HomeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().find_element_user(HOME$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.HomeType)get_store().add_element_user(HOME$6);
+            }
+            target.set(home);
+        }
+    }
+    
+    /**
+     * Gets the "remote" element
+     */
+    public java.lang.String getRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "remote" element
+     */
+    public com.sun.java.xml.ns.j2Ee.RemoteType xgetRemote()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "remote" element
+     */
+    public void setRemote(java.lang.String remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(REMOTE$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(REMOTE$8);
+            }
+            target.setStringValue(remote);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "remote" element
+     */
+    public void xsetRemote(com.sun.java.xml.ns.j2Ee.RemoteType remote)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.RemoteType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().find_element_user(REMOTE$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.RemoteType)get_store().add_element_user(REMOTE$8);
+            }
+            target.set(remote);
+        }
+    }
+    
+    /**
+     * Gets the "ejb-link" element
+     */
+    public java.lang.String getEjbLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBLINK$10, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ejb-link" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLinkType xgetEjbLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLinkType)get_store().find_element_user(EJBLINK$10, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ejb-link" element
+     */
+    public boolean isSetEjbLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBLINK$10) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "ejb-link" element
+     */
+    public void setEjbLink(java.lang.String ejbLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(EJBLINK$10, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(EJBLINK$10);
+            }
+            target.setStringValue(ejbLink);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ejb-link" element
+     */
+    public void xsetEjbLink(com.sun.java.xml.ns.j2Ee.EjbLinkType ejbLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLinkType)get_store().find_element_user(EJBLINK$10, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EjbLinkType)get_store().add_element_user(EJBLINK$10);
+            }
+            target.set(ejbLink);
+        }
+    }
+    
+    /**
+     * Unsets the "ejb-link" element
+     */
+    public void unsetEjbLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBLINK$10, 0);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * XML Type:  env-entryType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.EnvEntryType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML env-entryType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class EnvEntryTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.EnvEntryType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public EnvEntryTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName ENVENTRYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry-name");
+    private static final javax.xml.namespace.QName ENVENTRYTYPE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry-type");
+    private static final javax.xml.namespace.QName ENVENTRYVALUE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry-value");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -654637082:
+                if (name.equals(ENVENTRYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -654435179:
+                if (name.equals(ENVENTRYTYPE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1188474742:
+                if (name.equals(ENVENTRYVALUE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "env-entry-name" element
+     */
+    public java.lang.String getEnvEntryName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "env-entry-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JndiNameType xgetEnvEntryName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(ENVENTRYNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "env-entry-name" element
+     */
+    public void setEnvEntryName(java.lang.String envEntryName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENVENTRYNAME$2);
+            }
+            target.setStringValue(envEntryName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "env-entry-name" element
+     */
+    public void xsetEnvEntryName(com.sun.java.xml.ns.j2Ee.JndiNameType envEntryName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(ENVENTRYNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().add_element_user(ENVENTRYNAME$2);
+            }
+            target.set(envEntryName);
+        }
+    }
+    
+    /**
+     * Gets the "env-entry-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType.Enum getEnvEntryType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYTYPE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "env-entry-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType xgetEnvEntryType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType)get_store().find_element_user(ENVENTRYTYPE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "env-entry-type" element
+     */
+    public void setEnvEntryType(com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType.Enum envEntryType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYTYPE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENVENTRYTYPE$4);
+            }
+            target.setEnumValue(envEntryType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "env-entry-type" element
+     */
+    public void xsetEnvEntryType(com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType envEntryType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType)get_store().find_element_user(ENVENTRYTYPE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.EnvEntryTypeValuesType)get_store().add_element_user(ENVENTRYTYPE$4);
+            }
+            target.set(envEntryType);
+        }
+    }
+    
+    /**
+     * Gets the "env-entry-value" element
+     */
+    public java.lang.String getEnvEntryValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYVALUE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "env-entry-value" element
+     */
+    public org.apache.xmlbeans.XmlString xgetEnvEntryValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ENVENTRYVALUE$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "env-entry-value" element
+     */
+    public boolean isSetEnvEntryValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRYVALUE$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "env-entry-value" element
+     */
+    public void setEnvEntryValue(java.lang.String envEntryValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENVENTRYVALUE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENVENTRYVALUE$6);
+            }
+            target.setStringValue(envEntryValue);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "env-entry-value" element
+     */
+    public void xsetEnvEntryValue(org.apache.xmlbeans.XmlString envEntryValue)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(ENVENTRYVALUE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(ENVENTRYVALUE$6);
+            }
+            target.set(envEntryValue);
+        }
+    }
+    
+    /**
+     * Unsets the "env-entry-value" element
+     */
+    public void unsetEnvEntryValue()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRYVALUE$6, 0);
+        }
+    }
+}
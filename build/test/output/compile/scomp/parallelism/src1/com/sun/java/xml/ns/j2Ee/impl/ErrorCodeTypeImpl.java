@@ -0,0 +1,27 @@
+/*
+ * XML Type:  error-codeType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.ErrorCodeType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML error-codeType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.ErrorCodeType.
+ */
+public class ErrorCodeTypeImpl extends org.apache.xmlbeans.impl.values.JavaIntegerHolderEx implements com.sun.java.xml.ns.j2Ee.ErrorCodeType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ErrorCodeTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ErrorCodeTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * XML Type:  filter-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.FilterMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML filter-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class FilterMappingTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.FilterMappingType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FilterMappingTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FILTERNAME$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "filter-name");
+    private static final javax.xml.namespace.QName URLPATTERN$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "url-pattern");
+    private static final javax.xml.namespace.QName SERVLETNAME$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet-name");
+    private static final javax.xml.namespace.QName DISPATCHER$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "dispatcher");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1212540249:
+                if (name.equals(DISPATCHER$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -936297536:
+                if (name.equals(FILTERNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -843354861:
+                if (name.equals(SERVLETNAME$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 1971762482:
+                if (name.equals(URLPATTERN$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "filter-name" element
+     */
+    public java.lang.String getFilterName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FILTERNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "filter-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterNameType xgetFilterName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterNameType)get_store().find_element_user(FILTERNAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "filter-name" element
+     */
+    public void setFilterName(java.lang.String filterName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(FILTERNAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(FILTERNAME$0);
+            }
+            target.setStringValue(filterName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "filter-name" element
+     */
+    public void xsetFilterName(com.sun.java.xml.ns.j2Ee.FilterNameType filterName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterNameType)get_store().find_element_user(FILTERNAME$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.FilterNameType)get_store().add_element_user(FILTERNAME$0);
+            }
+            target.set(filterName);
+        }
+    }
+    
+    /**
+     * Gets the "url-pattern" element
+     */
+    public java.lang.String getUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "url-pattern" element
+     */
+    public boolean isSetUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(URLPATTERN$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "url-pattern" element
+     */
+    public void setUrlPattern(java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(URLPATTERN$2);
+            }
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "url-pattern" element
+     */
+    public void xsetUrlPattern(com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().add_element_user(URLPATTERN$2);
+            }
+            target.set(urlPattern);
+        }
+    }
+    
+    /**
+     * Unsets the "url-pattern" element
+     */
+    public void unsetUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(URLPATTERN$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "servlet-name" element
+     */
+    public java.lang.String getServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "servlet-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletNameType xgetServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "servlet-name" element
+     */
+    public boolean isSetServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVLETNAME$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "servlet-name" element
+     */
+    public void setServletName(java.lang.String servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SERVLETNAME$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SERVLETNAME$4);
+            }
+            target.setStringValue(servletName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "servlet-name" element
+     */
+    public void xsetServletName(com.sun.java.xml.ns.j2Ee.ServletNameType servletName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().find_element_user(SERVLETNAME$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.ServletNameType)get_store().add_element_user(SERVLETNAME$4);
+            }
+            target.set(servletName);
+        }
+    }
+    
+    /**
+     * Unsets the "servlet-name" element
+     */
+    public void unsetServletName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVLETNAME$4, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "dispatcher" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[] getDispatcherArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPATCHER$6, targetList);
+            com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[] result = new com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = (com.sun.java.xml.ns.j2Ee.DispatcherType.Enum)((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getEnumValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "dispatcher" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType.Enum getDispatcherArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DISPATCHER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return (com.sun.java.xml.ns.j2Ee.DispatcherType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "dispatcher" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType[] xgetDispatcherArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPATCHER$6, targetList);
+            com.sun.java.xml.ns.j2Ee.DispatcherType[] result = new com.sun.java.xml.ns.j2Ee.DispatcherType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "dispatcher" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType xgetDispatcherArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DispatcherType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DispatcherType)get_store().find_element_user(DISPATCHER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "dispatcher" element
+     */
+    public int sizeOfDispatcherArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPATCHER$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "dispatcher" element
+     */
+    public void setDispatcherArray(com.sun.java.xml.ns.j2Ee.DispatcherType.Enum[] dispatcherArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(dispatcherArray, DISPATCHER$6);
+        }
+    }
+    
+    /**
+     * Sets ith "dispatcher" element
+     */
+    public void setDispatcherArray(int i, com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DISPATCHER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setEnumValue(dispatcher);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "dispatcher" element
+     */
+    public void xsetDispatcherArray(com.sun.java.xml.ns.j2Ee.DispatcherType[]dispatcherArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(dispatcherArray, DISPATCHER$6);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "dispatcher" element
+     */
+    public void xsetDispatcherArray(int i, com.sun.java.xml.ns.j2Ee.DispatcherType dispatcher)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DispatcherType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DispatcherType)get_store().find_element_user(DISPATCHER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(dispatcher);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "dispatcher" element
+     */
+    public void insertDispatcher(int i, com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(DISPATCHER$6, i);
+            target.setEnumValue(dispatcher);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "dispatcher" element
+     */
+    public void addDispatcher(com.sun.java.xml.ns.j2Ee.DispatcherType.Enum dispatcher)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DISPATCHER$6);
+            target.setEnumValue(dispatcher);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "dispatcher" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType insertNewDispatcher(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DispatcherType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DispatcherType)get_store().insert_element_user(DISPATCHER$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "dispatcher" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DispatcherType addNewDispatcher()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DispatcherType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DispatcherType)get_store().add_element_user(DISPATCHER$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "dispatcher" element
+     */
+    public void removeDispatcher(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPATCHER$6, i);
+        }
+    }
+}
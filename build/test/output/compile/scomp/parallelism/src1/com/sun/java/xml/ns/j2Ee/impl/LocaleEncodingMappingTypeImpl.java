@@ -0,0 +1,182 @@
+/*
+ * XML Type:  locale-encoding-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML locale-encoding-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class LocaleEncodingMappingTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocaleEncodingMappingTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "locale");
+    private static final javax.xml.namespace.QName ENCODING$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "encoding");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(2);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1097462182:
+                if (name.equals(LOCALE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case 1711222099:
+                if (name.equals(ENCODING$2))
+                    return ORDINAL$BASE + 1;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "locale" element
+     */
+    public java.lang.String getLocale()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "locale" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetLocale()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(LOCALE$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "locale" element
+     */
+    public void setLocale(java.lang.String locale)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(LOCALE$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(LOCALE$0);
+            }
+            target.setStringValue(locale);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "locale" element
+     */
+    public void xsetLocale(com.sun.java.xml.ns.j2Ee.String locale)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(LOCALE$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(LOCALE$0);
+            }
+            target.set(locale);
+        }
+    }
+    
+    /**
+     * Gets the "encoding" element
+     */
+    public java.lang.String getEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENCODING$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "encoding" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetEncoding()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(ENCODING$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "encoding" element
+     */
+    public void setEncoding(java.lang.String encoding)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ENCODING$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ENCODING$2);
+            }
+            target.setStringValue(encoding);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "encoding" element
+     */
+    public void xsetEncoding(com.sun.java.xml.ns.j2Ee.String encoding)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(ENCODING$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(ENCODING$2);
+            }
+            target.set(encoding);
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * XML Type:  message-destination-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.MessageDestinationRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML message-destination-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class MessageDestinationRefTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.MessageDestinationRefType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public MessageDestinationRefTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREFNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref-name");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONTYPE$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-type");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONUSAGE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-usage");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONLINK$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-link");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(5);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -798394262:
+                if (name.equals(MESSAGEDESTINATIONREFNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 761469791:
+                if (name.equals(MESSAGEDESTINATIONLINK$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case 761723551:
+                if (name.equals(MESSAGEDESTINATIONTYPE$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 2139324124:
+                if (name.equals(MESSAGEDESTINATIONUSAGE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-ref-name" element
+     */
+    public java.lang.String getMessageDestinationRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONREFNAME$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-ref-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JndiNameType xgetMessageDestinationRefName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(MESSAGEDESTINATIONREFNAME$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-ref-name" element
+     */
+    public void setMessageDestinationRefName(java.lang.String messageDestinationRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONREFNAME$2);
+            }
+            target.setStringValue(messageDestinationRefName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-ref-name" element
+     */
+    public void xsetMessageDestinationRefName(com.sun.java.xml.ns.j2Ee.JndiNameType messageDestinationRefName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JndiNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().find_element_user(MESSAGEDESTINATIONREFNAME$2, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.JndiNameType)get_store().add_element_user(MESSAGEDESTINATIONREFNAME$2);
+            }
+            target.set(messageDestinationRefName);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-type" element
+     */
+    public java.lang.String getMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONTYPE$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-type" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType xgetMessageDestinationType()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().find_element_user(MESSAGEDESTINATIONTYPE$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-type" element
+     */
+    public void setMessageDestinationType(java.lang.String messageDestinationType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONTYPE$4, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONTYPE$4);
+            }
+            target.setStringValue(messageDestinationType);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-type" element
+     */
+    public void xsetMessageDestinationType(com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType messageDestinationType)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().find_element_user(MESSAGEDESTINATIONTYPE$4, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MessageDestinationTypeType)get_store().add_element_user(MESSAGEDESTINATIONTYPE$4);
+            }
+            target.set(messageDestinationType);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-usage" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType.Enum getMessageDestinationUsage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONUSAGE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-usage" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType xgetMessageDestinationUsage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType)get_store().find_element_user(MESSAGEDESTINATIONUSAGE$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-usage" element
+     */
+    public void setMessageDestinationUsage(com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType.Enum messageDestinationUsage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONUSAGE$6, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONUSAGE$6);
+            }
+            target.setEnumValue(messageDestinationUsage);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-usage" element
+     */
+    public void xsetMessageDestinationUsage(com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType messageDestinationUsage)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType)get_store().find_element_user(MESSAGEDESTINATIONUSAGE$6, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MessageDestinationUsageType)get_store().add_element_user(MESSAGEDESTINATIONUSAGE$6);
+            }
+            target.set(messageDestinationUsage);
+        }
+    }
+    
+    /**
+     * Gets the "message-destination-link" element
+     */
+    public java.lang.String getMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONLINK$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "message-destination-link" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType xgetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().find_element_user(MESSAGEDESTINATIONLINK$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "message-destination-link" element
+     */
+    public boolean isSetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONLINK$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "message-destination-link" element
+     */
+    public void setMessageDestinationLink(java.lang.String messageDestinationLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(MESSAGEDESTINATIONLINK$8, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(MESSAGEDESTINATIONLINK$8);
+            }
+            target.setStringValue(messageDestinationLink);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "message-destination-link" element
+     */
+    public void xsetMessageDestinationLink(com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType messageDestinationLink)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().find_element_user(MESSAGEDESTINATIONLINK$8, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.MessageDestinationLinkType)get_store().add_element_user(MESSAGEDESTINATIONLINK$8);
+            }
+            target.set(messageDestinationLink);
+        }
+    }
+    
+    /**
+     * Unsets the "message-destination-link" element
+     */
+    public void unsetMessageDestinationLink()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONLINK$8, 0);
+        }
+    }
+}
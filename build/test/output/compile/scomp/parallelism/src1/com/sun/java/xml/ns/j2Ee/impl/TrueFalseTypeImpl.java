@@ -0,0 +1,27 @@
+/*
+ * XML Type:  true-falseType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.TrueFalseType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML true-falseType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is an atomic type that is a restriction of com.sun.java.xml.ns.j2Ee.TrueFalseType.
+ */
+public class TrueFalseTypeImpl extends org.apache.xmlbeans.impl.values.JavaBooleanHolderEx implements com.sun.java.xml.ns.j2Ee.TrueFalseType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TrueFalseTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected TrueFalseTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: web-app
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.WebAppDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * A document containing one web-app(@http://java.sun.com/xml/ns/j2ee) element.
+ *
+ * This is a complex type.
+ */
+public class WebAppDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.WebAppDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WebAppDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WEBAPP$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "web-app");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case 1222242344:
+                if (name.equals(WEBAPP$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "web-app" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebAppType getWebApp()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebAppType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebAppType)get_store().find_element_user(WEBAPP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "web-app" element
+     */
+    public void setWebApp(com.sun.java.xml.ns.j2Ee.WebAppType webApp)
+    {
+        generatedSetterHelperImpl(webApp, WEBAPP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "web-app" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WebAppType addNewWebApp()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebAppType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebAppType)get_store().add_element_user(WEBAPP$0);
+            return target;
+        }
+    }
+}
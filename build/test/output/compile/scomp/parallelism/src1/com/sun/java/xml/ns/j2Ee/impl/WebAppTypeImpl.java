@@ -0,0 +1,2813 @@
+/*
+ * XML Type:  web-appType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.WebAppType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML web-appType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class WebAppTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.WebAppType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WebAppTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DESCRIPTION$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName DISPLAYNAME$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "display-name");
+    private static final javax.xml.namespace.QName ICON$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "icon");
+    private static final javax.xml.namespace.QName DISTRIBUTABLE$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "distributable");
+    private static final javax.xml.namespace.QName CONTEXTPARAM$8 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "context-param");
+    private static final javax.xml.namespace.QName FILTER$10 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "filter");
+    private static final javax.xml.namespace.QName FILTERMAPPING$12 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "filter-mapping");
+    private static final javax.xml.namespace.QName LISTENER$14 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "listener");
+    private static final javax.xml.namespace.QName SERVLET$16 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet");
+    private static final javax.xml.namespace.QName SERVLETMAPPING$18 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "servlet-mapping");
+    private static final javax.xml.namespace.QName SESSIONCONFIG$20 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "session-config");
+    private static final javax.xml.namespace.QName MIMEMAPPING$22 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "mime-mapping");
+    private static final javax.xml.namespace.QName WELCOMEFILELIST$24 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "welcome-file-list");
+    private static final javax.xml.namespace.QName ERRORPAGE$26 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "error-page");
+    private static final javax.xml.namespace.QName JSPCONFIG$28 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "jsp-config");
+    private static final javax.xml.namespace.QName RESOURCEENVREF$30 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-env-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATIONREF$32 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination-ref");
+    private static final javax.xml.namespace.QName RESOURCEREF$34 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "resource-ref");
+    private static final javax.xml.namespace.QName SECURITYCONSTRAINT$36 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-constraint");
+    private static final javax.xml.namespace.QName LOGINCONFIG$38 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "login-config");
+    private static final javax.xml.namespace.QName SECURITYROLE$40 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "security-role");
+    private static final javax.xml.namespace.QName ENVENTRY$42 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "env-entry");
+    private static final javax.xml.namespace.QName EJBREF$44 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-ref");
+    private static final javax.xml.namespace.QName EJBLOCALREF$46 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "ejb-local-ref");
+    private static final javax.xml.namespace.QName MESSAGEDESTINATION$48 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "message-destination");
+    private static final javax.xml.namespace.QName LOCALEENCODINGMAPPINGLIST$50 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "locale-encoding-mapping-list");
+    private static final javax.xml.namespace.QName DEPLOYMENTEXTENSION$52 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "deployment-extension");
+    private static final javax.xml.namespace.QName VERSION$54 = 
+        new javax.xml.namespace.QName("", "version");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(27);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -2043509210:
+                if (name.equals(LOGINCONFIG$38))
+                    return ORDINAL$BASE + 19;
+                break;
+            case -1757565346:
+                if (name.equals(DISTRIBUTABLE$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case -1724760285:
+                if (name.equals(EJBREF$44))
+                    return ORDINAL$BASE + 22;
+                break;
+            case -1724546052:
+                if (name.equals(DESCRIPTION$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -1472086716:
+                if (name.equals(LOCALEENCODINGMAPPINGLIST$50))
+                    return ORDINAL$BASE + 25;
+                break;
+            case -1274492040:
+                if (name.equals(FILTER$10))
+                    return ORDINAL$BASE + 5;
+                break;
+            case -1185873270:
+                if (name.equals(SECURITYCONSTRAINT$36))
+                    return ORDINAL$BASE + 18;
+                break;
+            case -1170201873:
+                if (name.equals(CONTEXTPARAM$8))
+                    return ORDINAL$BASE + 4;
+                break;
+            case -1157594296:
+                if (name.equals(MESSAGEDESTINATION$48))
+                    return ORDINAL$BASE + 24;
+                break;
+            case -983709897:
+                if (name.equals(DEPLOYMENTEXTENSION$52))
+                    return ORDINAL$BASE + 26;
+                break;
+            case -835316316:
+                if (name.equals(WELCOMEFILELIST$24))
+                    return ORDINAL$BASE + 12;
+                break;
+            case -750406941:
+                if (name.equals(SECURITYROLE$40))
+                    return ORDINAL$BASE + 20;
+                break;
+            case -697466990:
+                if (name.equals(ENVENTRY$42))
+                    return ORDINAL$BASE + 21;
+                break;
+            case -385533356:
+                if (name.equals(RESOURCEREF$34))
+                    return ORDINAL$BASE + 17;
+                break;
+            case -238175807:
+                if (name.equals(EJBLOCALREF$46))
+                    return ORDINAL$BASE + 23;
+                break;
+            case 3226745:
+                if (name.equals(ICON$4))
+                    return ORDINAL$BASE + 2;
+                break;
+            case 35747417:
+                if (name.equals(SESSIONCONFIG$20))
+                    return ORDINAL$BASE + 10;
+                break;
+            case 289716550:
+                if (name.equals(SERVLETMAPPING$18))
+                    return ORDINAL$BASE + 9;
+                break;
+            case 794968968:
+                if (name.equals(JSPCONFIG$28))
+                    return ORDINAL$BASE + 14;
+                break;
+            case 1328983093:
+                if (name.equals(MIMEMAPPING$22))
+                    return ORDINAL$BASE + 11;
+                break;
+            case 1346159796:
+                if (name.equals(LISTENER$14))
+                    return ORDINAL$BASE + 7;
+                break;
+            case 1568910518:
+                if (name.equals(DISPLAYNAME$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case 1589884724:
+                if (name.equals(ERRORPAGE$26))
+                    return ORDINAL$BASE + 13;
+                break;
+            case 1688391545:
+                if (name.equals(FILTERMAPPING$12))
+                    return ORDINAL$BASE + 6;
+                break;
+            case 1964231822:
+                if (name.equals(MESSAGEDESTINATIONREF$32))
+                    return ORDINAL$BASE + 16;
+                break;
+            case 1964650740:
+                if (name.equals(RESOURCEENVREF$30))
+                    return ORDINAL$BASE + 15;
+                break;
+            case 1984156229:
+                if (name.equals(SERVLET$16))
+                    return ORDINAL$BASE + 8;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$0, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$0);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType[] getDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DISPLAYNAME$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DisplayNameType[] result = new com.sun.java.xml.ns.j2Ee.DisplayNameType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType getDisplayNameArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().find_element_user(DISPLAYNAME$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "display-name" element
+     */
+    public int sizeOfDisplayNameArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISPLAYNAME$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "display-name" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.DisplayNameType[] displayNameArray)
+    {
+        check_orphaned();
+        arraySetterHelper(displayNameArray, DISPLAYNAME$2);
+    }
+    
+    /**
+     * Sets ith "display-name" element
+     */
+    public void setDisplayNameArray(int i, com.sun.java.xml.ns.j2Ee.DisplayNameType displayName)
+    {
+        generatedSetterHelperImpl(displayName, DISPLAYNAME$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType insertNewDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().insert_element_user(DISPLAYNAME$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "display-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DisplayNameType addNewDisplayName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DisplayNameType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DisplayNameType)get_store().add_element_user(DISPLAYNAME$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "display-name" element
+     */
+    public void removeDisplayName(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISPLAYNAME$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType[] getIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ICON$4, targetList);
+            com.sun.java.xml.ns.j2Ee.IconType[] result = new com.sun.java.xml.ns.j2Ee.IconType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType getIconArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().find_element_user(ICON$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "icon" element
+     */
+    public int sizeOfIconArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ICON$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "icon" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.IconType[] iconArray)
+    {
+        check_orphaned();
+        arraySetterHelper(iconArray, ICON$4);
+    }
+    
+    /**
+     * Sets ith "icon" element
+     */
+    public void setIconArray(int i, com.sun.java.xml.ns.j2Ee.IconType icon)
+    {
+        generatedSetterHelperImpl(icon, ICON$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType insertNewIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().insert_element_user(ICON$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "icon" element
+     */
+    public com.sun.java.xml.ns.j2Ee.IconType addNewIcon()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.IconType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.IconType)get_store().add_element_user(ICON$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "icon" element
+     */
+    public void removeIcon(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ICON$4, i);
+        }
+    }
+    
+    /**
+     * Gets the "distributable" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EmptyType getDistributable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EmptyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EmptyType)get_store().find_element_user(DISTRIBUTABLE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "distributable" element
+     */
+    public boolean isSetDistributable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DISTRIBUTABLE$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "distributable" element
+     */
+    public void setDistributable(com.sun.java.xml.ns.j2Ee.EmptyType distributable)
+    {
+        generatedSetterHelperImpl(distributable, DISTRIBUTABLE$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "distributable" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EmptyType addNewDistributable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EmptyType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EmptyType)get_store().add_element_user(DISTRIBUTABLE$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "distributable" element
+     */
+    public void unsetDistributable()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DISTRIBUTABLE$6, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "context-param" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType[] getContextParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONTEXTPARAM$8, targetList);
+            com.sun.java.xml.ns.j2Ee.ParamValueType[] result = new com.sun.java.xml.ns.j2Ee.ParamValueType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "context-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType getContextParamArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().find_element_user(CONTEXTPARAM$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "context-param" element
+     */
+    public int sizeOfContextParamArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONTEXTPARAM$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "context-param" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setContextParamArray(com.sun.java.xml.ns.j2Ee.ParamValueType[] contextParamArray)
+    {
+        check_orphaned();
+        arraySetterHelper(contextParamArray, CONTEXTPARAM$8);
+    }
+    
+    /**
+     * Sets ith "context-param" element
+     */
+    public void setContextParamArray(int i, com.sun.java.xml.ns.j2Ee.ParamValueType contextParam)
+    {
+        generatedSetterHelperImpl(contextParam, CONTEXTPARAM$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "context-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType insertNewContextParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().insert_element_user(CONTEXTPARAM$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "context-param" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ParamValueType addNewContextParam()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ParamValueType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ParamValueType)get_store().add_element_user(CONTEXTPARAM$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "context-param" element
+     */
+    public void removeContextParam(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CONTEXTPARAM$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "filter" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterType[] getFilterArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(FILTER$10, targetList);
+            com.sun.java.xml.ns.j2Ee.FilterType[] result = new com.sun.java.xml.ns.j2Ee.FilterType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "filter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterType getFilterArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterType)get_store().find_element_user(FILTER$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "filter" element
+     */
+    public int sizeOfFilterArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FILTER$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "filter" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setFilterArray(com.sun.java.xml.ns.j2Ee.FilterType[] filterArray)
+    {
+        check_orphaned();
+        arraySetterHelper(filterArray, FILTER$10);
+    }
+    
+    /**
+     * Sets ith "filter" element
+     */
+    public void setFilterArray(int i, com.sun.java.xml.ns.j2Ee.FilterType filter)
+    {
+        generatedSetterHelperImpl(filter, FILTER$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "filter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterType insertNewFilter(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterType)get_store().insert_element_user(FILTER$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "filter" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterType addNewFilter()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterType)get_store().add_element_user(FILTER$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "filter" element
+     */
+    public void removeFilter(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FILTER$10, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "filter-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterMappingType[] getFilterMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(FILTERMAPPING$12, targetList);
+            com.sun.java.xml.ns.j2Ee.FilterMappingType[] result = new com.sun.java.xml.ns.j2Ee.FilterMappingType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "filter-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterMappingType getFilterMappingArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterMappingType)get_store().find_element_user(FILTERMAPPING$12, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "filter-mapping" element
+     */
+    public int sizeOfFilterMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FILTERMAPPING$12);
+        }
+    }
+    
+    /**
+     * Sets array of all "filter-mapping" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setFilterMappingArray(com.sun.java.xml.ns.j2Ee.FilterMappingType[] filterMappingArray)
+    {
+        check_orphaned();
+        arraySetterHelper(filterMappingArray, FILTERMAPPING$12);
+    }
+    
+    /**
+     * Sets ith "filter-mapping" element
+     */
+    public void setFilterMappingArray(int i, com.sun.java.xml.ns.j2Ee.FilterMappingType filterMapping)
+    {
+        generatedSetterHelperImpl(filterMapping, FILTERMAPPING$12, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "filter-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterMappingType insertNewFilterMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterMappingType)get_store().insert_element_user(FILTERMAPPING$12, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "filter-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.FilterMappingType addNewFilterMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.FilterMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.FilterMappingType)get_store().add_element_user(FILTERMAPPING$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "filter-mapping" element
+     */
+    public void removeFilterMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FILTERMAPPING$12, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "listener" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ListenerType[] getListenerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LISTENER$14, targetList);
+            com.sun.java.xml.ns.j2Ee.ListenerType[] result = new com.sun.java.xml.ns.j2Ee.ListenerType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "listener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ListenerType getListenerArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ListenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ListenerType)get_store().find_element_user(LISTENER$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "listener" element
+     */
+    public int sizeOfListenerArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LISTENER$14);
+        }
+    }
+    
+    /**
+     * Sets array of all "listener" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setListenerArray(com.sun.java.xml.ns.j2Ee.ListenerType[] listenerArray)
+    {
+        check_orphaned();
+        arraySetterHelper(listenerArray, LISTENER$14);
+    }
+    
+    /**
+     * Sets ith "listener" element
+     */
+    public void setListenerArray(int i, com.sun.java.xml.ns.j2Ee.ListenerType listener)
+    {
+        generatedSetterHelperImpl(listener, LISTENER$14, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "listener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ListenerType insertNewListener(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ListenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ListenerType)get_store().insert_element_user(LISTENER$14, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "listener" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ListenerType addNewListener()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ListenerType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ListenerType)get_store().add_element_user(LISTENER$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "listener" element
+     */
+    public void removeListener(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LISTENER$14, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "servlet" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletType[] getServletArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SERVLET$16, targetList);
+            com.sun.java.xml.ns.j2Ee.ServletType[] result = new com.sun.java.xml.ns.j2Ee.ServletType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "servlet" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletType getServletArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletType)get_store().find_element_user(SERVLET$16, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "servlet" element
+     */
+    public int sizeOfServletArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVLET$16);
+        }
+    }
+    
+    /**
+     * Sets array of all "servlet" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setServletArray(com.sun.java.xml.ns.j2Ee.ServletType[] servletArray)
+    {
+        check_orphaned();
+        arraySetterHelper(servletArray, SERVLET$16);
+    }
+    
+    /**
+     * Sets ith "servlet" element
+     */
+    public void setServletArray(int i, com.sun.java.xml.ns.j2Ee.ServletType servlet)
+    {
+        generatedSetterHelperImpl(servlet, SERVLET$16, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "servlet" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletType insertNewServlet(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletType)get_store().insert_element_user(SERVLET$16, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "servlet" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletType addNewServlet()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletType)get_store().add_element_user(SERVLET$16);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "servlet" element
+     */
+    public void removeServlet(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVLET$16, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "servlet-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletMappingType[] getServletMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SERVLETMAPPING$18, targetList);
+            com.sun.java.xml.ns.j2Ee.ServletMappingType[] result = new com.sun.java.xml.ns.j2Ee.ServletMappingType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "servlet-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletMappingType getServletMappingArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletMappingType)get_store().find_element_user(SERVLETMAPPING$18, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "servlet-mapping" element
+     */
+    public int sizeOfServletMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SERVLETMAPPING$18);
+        }
+    }
+    
+    /**
+     * Sets array of all "servlet-mapping" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setServletMappingArray(com.sun.java.xml.ns.j2Ee.ServletMappingType[] servletMappingArray)
+    {
+        check_orphaned();
+        arraySetterHelper(servletMappingArray, SERVLETMAPPING$18);
+    }
+    
+    /**
+     * Sets ith "servlet-mapping" element
+     */
+    public void setServletMappingArray(int i, com.sun.java.xml.ns.j2Ee.ServletMappingType servletMapping)
+    {
+        generatedSetterHelperImpl(servletMapping, SERVLETMAPPING$18, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "servlet-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletMappingType insertNewServletMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletMappingType)get_store().insert_element_user(SERVLETMAPPING$18, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "servlet-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ServletMappingType addNewServletMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ServletMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ServletMappingType)get_store().add_element_user(SERVLETMAPPING$18);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "servlet-mapping" element
+     */
+    public void removeServletMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SERVLETMAPPING$18, i);
+        }
+    }
+    
+    /**
+     * Gets the "session-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionConfigType getSessionConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionConfigType)get_store().find_element_user(SESSIONCONFIG$20, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "session-config" element
+     */
+    public boolean isSetSessionConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SESSIONCONFIG$20) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "session-config" element
+     */
+    public void setSessionConfig(com.sun.java.xml.ns.j2Ee.SessionConfigType sessionConfig)
+    {
+        generatedSetterHelperImpl(sessionConfig, SESSIONCONFIG$20, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "session-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SessionConfigType addNewSessionConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SessionConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SessionConfigType)get_store().add_element_user(SESSIONCONFIG$20);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "session-config" element
+     */
+    public void unsetSessionConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SESSIONCONFIG$20, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "mime-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MimeMappingType[] getMimeMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MIMEMAPPING$22, targetList);
+            com.sun.java.xml.ns.j2Ee.MimeMappingType[] result = new com.sun.java.xml.ns.j2Ee.MimeMappingType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "mime-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MimeMappingType getMimeMappingArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MimeMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MimeMappingType)get_store().find_element_user(MIMEMAPPING$22, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "mime-mapping" element
+     */
+    public int sizeOfMimeMappingArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MIMEMAPPING$22);
+        }
+    }
+    
+    /**
+     * Sets array of all "mime-mapping" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMimeMappingArray(com.sun.java.xml.ns.j2Ee.MimeMappingType[] mimeMappingArray)
+    {
+        check_orphaned();
+        arraySetterHelper(mimeMappingArray, MIMEMAPPING$22);
+    }
+    
+    /**
+     * Sets ith "mime-mapping" element
+     */
+    public void setMimeMappingArray(int i, com.sun.java.xml.ns.j2Ee.MimeMappingType mimeMapping)
+    {
+        generatedSetterHelperImpl(mimeMapping, MIMEMAPPING$22, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "mime-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MimeMappingType insertNewMimeMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MimeMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MimeMappingType)get_store().insert_element_user(MIMEMAPPING$22, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "mime-mapping" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MimeMappingType addNewMimeMapping()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MimeMappingType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MimeMappingType)get_store().add_element_user(MIMEMAPPING$22);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "mime-mapping" element
+     */
+    public void removeMimeMapping(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MIMEMAPPING$22, i);
+        }
+    }
+    
+    /**
+     * Gets the "welcome-file-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WelcomeFileListType getWelcomeFileList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WelcomeFileListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WelcomeFileListType)get_store().find_element_user(WELCOMEFILELIST$24, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "welcome-file-list" element
+     */
+    public boolean isSetWelcomeFileList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(WELCOMEFILELIST$24) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "welcome-file-list" element
+     */
+    public void setWelcomeFileList(com.sun.java.xml.ns.j2Ee.WelcomeFileListType welcomeFileList)
+    {
+        generatedSetterHelperImpl(welcomeFileList, WELCOMEFILELIST$24, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "welcome-file-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.WelcomeFileListType addNewWelcomeFileList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WelcomeFileListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WelcomeFileListType)get_store().add_element_user(WELCOMEFILELIST$24);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "welcome-file-list" element
+     */
+    public void unsetWelcomeFileList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(WELCOMEFILELIST$24, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "error-page" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ErrorPageType[] getErrorPageArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ERRORPAGE$26, targetList);
+            com.sun.java.xml.ns.j2Ee.ErrorPageType[] result = new com.sun.java.xml.ns.j2Ee.ErrorPageType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "error-page" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ErrorPageType getErrorPageArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ErrorPageType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ErrorPageType)get_store().find_element_user(ERRORPAGE$26, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "error-page" element
+     */
+    public int sizeOfErrorPageArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ERRORPAGE$26);
+        }
+    }
+    
+    /**
+     * Sets array of all "error-page" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setErrorPageArray(com.sun.java.xml.ns.j2Ee.ErrorPageType[] errorPageArray)
+    {
+        check_orphaned();
+        arraySetterHelper(errorPageArray, ERRORPAGE$26);
+    }
+    
+    /**
+     * Sets ith "error-page" element
+     */
+    public void setErrorPageArray(int i, com.sun.java.xml.ns.j2Ee.ErrorPageType errorPage)
+    {
+        generatedSetterHelperImpl(errorPage, ERRORPAGE$26, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "error-page" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ErrorPageType insertNewErrorPage(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ErrorPageType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ErrorPageType)get_store().insert_element_user(ERRORPAGE$26, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "error-page" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ErrorPageType addNewErrorPage()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ErrorPageType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ErrorPageType)get_store().add_element_user(ERRORPAGE$26);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "error-page" element
+     */
+    public void removeErrorPage(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ERRORPAGE$26, i);
+        }
+    }
+    
+    /**
+     * Gets the "jsp-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspConfigType getJspConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspConfigType)get_store().find_element_user(JSPCONFIG$28, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "jsp-config" element
+     */
+    public boolean isSetJspConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(JSPCONFIG$28) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "jsp-config" element
+     */
+    public void setJspConfig(com.sun.java.xml.ns.j2Ee.JspConfigType jspConfig)
+    {
+        generatedSetterHelperImpl(jspConfig, JSPCONFIG$28, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "jsp-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.JspConfigType addNewJspConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.JspConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.JspConfigType)get_store().add_element_user(JSPCONFIG$28);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "jsp-config" element
+     */
+    public void unsetJspConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(JSPCONFIG$28, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEENVREF$30, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType getResourceEnvRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().find_element_user(RESOURCEENVREF$30, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-env-ref" element
+     */
+    public int sizeOfResourceEnvRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEENVREF$30);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.ResourceEnvRefType[] resourceEnvRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceEnvRefArray, RESOURCEENVREF$30);
+    }
+    
+    /**
+     * Sets ith "resource-env-ref" element
+     */
+    public void setResourceEnvRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceEnvRefType resourceEnvRef)
+    {
+        generatedSetterHelperImpl(resourceEnvRef, RESOURCEENVREF$30, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType insertNewResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().insert_element_user(RESOURCEENVREF$30, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-env-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceEnvRefType addNewResourceEnvRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceEnvRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceEnvRefType)get_store().add_element_user(RESOURCEENVREF$30);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-env-ref" element
+     */
+    public void removeResourceEnvRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEENVREF$30, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATIONREF$32, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType getMessageDestinationRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().find_element_user(MESSAGEDESTINATIONREF$32, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination-ref" element
+     */
+    public int sizeOfMessageDestinationRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATIONREF$32);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.MessageDestinationRefType[] messageDestinationRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationRefArray, MESSAGEDESTINATIONREF$32);
+    }
+    
+    /**
+     * Sets ith "message-destination-ref" element
+     */
+    public void setMessageDestinationRefArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationRefType messageDestinationRef)
+    {
+        generatedSetterHelperImpl(messageDestinationRef, MESSAGEDESTINATIONREF$32, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType insertNewMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().insert_element_user(MESSAGEDESTINATIONREF$32, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationRefType addNewMessageDestinationRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationRefType)get_store().add_element_user(MESSAGEDESTINATIONREF$32);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination-ref" element
+     */
+    public void removeMessageDestinationRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATIONREF$32, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType[] getResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(RESOURCEREF$34, targetList);
+            com.sun.java.xml.ns.j2Ee.ResourceRefType[] result = new com.sun.java.xml.ns.j2Ee.ResourceRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType getResourceRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().find_element_user(RESOURCEREF$34, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "resource-ref" element
+     */
+    public int sizeOfResourceRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(RESOURCEREF$34);
+        }
+    }
+    
+    /**
+     * Sets array of all "resource-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.ResourceRefType[] resourceRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(resourceRefArray, RESOURCEREF$34);
+    }
+    
+    /**
+     * Sets ith "resource-ref" element
+     */
+    public void setResourceRefArray(int i, com.sun.java.xml.ns.j2Ee.ResourceRefType resourceRef)
+    {
+        generatedSetterHelperImpl(resourceRef, RESOURCEREF$34, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType insertNewResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().insert_element_user(RESOURCEREF$34, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "resource-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.ResourceRefType addNewResourceRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.ResourceRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.ResourceRefType)get_store().add_element_user(RESOURCEREF$34);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "resource-ref" element
+     */
+    public void removeResourceRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(RESOURCEREF$34, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-constraint" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityConstraintType[] getSecurityConstraintArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYCONSTRAINT$36, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityConstraintType[] result = new com.sun.java.xml.ns.j2Ee.SecurityConstraintType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityConstraintType getSecurityConstraintArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityConstraintType)get_store().find_element_user(SECURITYCONSTRAINT$36, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-constraint" element
+     */
+    public int sizeOfSecurityConstraintArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYCONSTRAINT$36);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-constraint" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityConstraintArray(com.sun.java.xml.ns.j2Ee.SecurityConstraintType[] securityConstraintArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityConstraintArray, SECURITYCONSTRAINT$36);
+    }
+    
+    /**
+     * Sets ith "security-constraint" element
+     */
+    public void setSecurityConstraintArray(int i, com.sun.java.xml.ns.j2Ee.SecurityConstraintType securityConstraint)
+    {
+        generatedSetterHelperImpl(securityConstraint, SECURITYCONSTRAINT$36, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityConstraintType insertNewSecurityConstraint(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityConstraintType)get_store().insert_element_user(SECURITYCONSTRAINT$36, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityConstraintType addNewSecurityConstraint()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityConstraintType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityConstraintType)get_store().add_element_user(SECURITYCONSTRAINT$36);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-constraint" element
+     */
+    public void removeSecurityConstraint(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYCONSTRAINT$36, i);
+        }
+    }
+    
+    /**
+     * Gets the "login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LoginConfigType getLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LoginConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LoginConfigType)get_store().find_element_user(LOGINCONFIG$38, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "login-config" element
+     */
+    public boolean isSetLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOGINCONFIG$38) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "login-config" element
+     */
+    public void setLoginConfig(com.sun.java.xml.ns.j2Ee.LoginConfigType loginConfig)
+    {
+        generatedSetterHelperImpl(loginConfig, LOGINCONFIG$38, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LoginConfigType addNewLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LoginConfigType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LoginConfigType)get_store().add_element_user(LOGINCONFIG$38);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "login-config" element
+     */
+    public void unsetLoginConfig()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOGINCONFIG$38, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "security-role" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType[] getSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SECURITYROLE$40, targetList);
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType[] result = new com.sun.java.xml.ns.j2Ee.SecurityRoleType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType getSecurityRoleArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().find_element_user(SECURITYROLE$40, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "security-role" element
+     */
+    public int sizeOfSecurityRoleArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SECURITYROLE$40);
+        }
+    }
+    
+    /**
+     * Sets array of all "security-role" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSecurityRoleArray(com.sun.java.xml.ns.j2Ee.SecurityRoleType[] securityRoleArray)
+    {
+        check_orphaned();
+        arraySetterHelper(securityRoleArray, SECURITYROLE$40);
+    }
+    
+    /**
+     * Sets ith "security-role" element
+     */
+    public void setSecurityRoleArray(int i, com.sun.java.xml.ns.j2Ee.SecurityRoleType securityRole)
+    {
+        generatedSetterHelperImpl(securityRole, SECURITYROLE$40, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType insertNewSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().insert_element_user(SECURITYROLE$40, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "security-role" element
+     */
+    public com.sun.java.xml.ns.j2Ee.SecurityRoleType addNewSecurityRole()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.SecurityRoleType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.SecurityRoleType)get_store().add_element_user(SECURITYROLE$40);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "security-role" element
+     */
+    public void removeSecurityRole(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SECURITYROLE$40, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType[] getEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ENVENTRY$42, targetList);
+            com.sun.java.xml.ns.j2Ee.EnvEntryType[] result = new com.sun.java.xml.ns.j2Ee.EnvEntryType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType getEnvEntryArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().find_element_user(ENVENTRY$42, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "env-entry" element
+     */
+    public int sizeOfEnvEntryArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ENVENTRY$42);
+        }
+    }
+    
+    /**
+     * Sets array of all "env-entry" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.EnvEntryType[] envEntryArray)
+    {
+        check_orphaned();
+        arraySetterHelper(envEntryArray, ENVENTRY$42);
+    }
+    
+    /**
+     * Sets ith "env-entry" element
+     */
+    public void setEnvEntryArray(int i, com.sun.java.xml.ns.j2Ee.EnvEntryType envEntry)
+    {
+        generatedSetterHelperImpl(envEntry, ENVENTRY$42, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType insertNewEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().insert_element_user(ENVENTRY$42, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "env-entry" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EnvEntryType addNewEnvEntry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EnvEntryType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EnvEntryType)get_store().add_element_user(ENVENTRY$42);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "env-entry" element
+     */
+    public void removeEnvEntry(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ENVENTRY$42, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType[] getEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBREF$44, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType getEjbRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().find_element_user(EJBREF$44, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-ref" element
+     */
+    public int sizeOfEjbRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBREF$44);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.EjbRefType[] ejbRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbRefArray, EJBREF$44);
+    }
+    
+    /**
+     * Sets ith "ejb-ref" element
+     */
+    public void setEjbRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbRefType ejbRef)
+    {
+        generatedSetterHelperImpl(ejbRef, EJBREF$44, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType insertNewEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().insert_element_user(EJBREF$44, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbRefType addNewEjbRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbRefType)get_store().add_element_user(EJBREF$44);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-ref" element
+     */
+    public void removeEjbRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBREF$44, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ejb-local-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] getEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(EJBLOCALREF$46, targetList);
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] result = new com.sun.java.xml.ns.j2Ee.EjbLocalRefType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType getEjbLocalRefArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().find_element_user(EJBLOCALREF$46, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ejb-local-ref" element
+     */
+    public int sizeOfEjbLocalRefArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(EJBLOCALREF$46);
+        }
+    }
+    
+    /**
+     * Sets array of all "ejb-local-ref" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setEjbLocalRefArray(com.sun.java.xml.ns.j2Ee.EjbLocalRefType[] ejbLocalRefArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ejbLocalRefArray, EJBLOCALREF$46);
+    }
+    
+    /**
+     * Sets ith "ejb-local-ref" element
+     */
+    public void setEjbLocalRefArray(int i, com.sun.java.xml.ns.j2Ee.EjbLocalRefType ejbLocalRef)
+    {
+        generatedSetterHelperImpl(ejbLocalRef, EJBLOCALREF$46, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType insertNewEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().insert_element_user(EJBLOCALREF$46, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ejb-local-ref" element
+     */
+    public com.sun.java.xml.ns.j2Ee.EjbLocalRefType addNewEjbLocalRef()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.EjbLocalRefType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.EjbLocalRefType)get_store().add_element_user(EJBLOCALREF$46);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ejb-local-ref" element
+     */
+    public void removeEjbLocalRef(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(EJBLOCALREF$46, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType[] getMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MESSAGEDESTINATION$48, targetList);
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType[] result = new com.sun.java.xml.ns.j2Ee.MessageDestinationType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType getMessageDestinationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().find_element_user(MESSAGEDESTINATION$48, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "message-destination" element
+     */
+    public int sizeOfMessageDestinationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MESSAGEDESTINATION$48);
+        }
+    }
+    
+    /**
+     * Sets array of all "message-destination" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.MessageDestinationType[] messageDestinationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(messageDestinationArray, MESSAGEDESTINATION$48);
+    }
+    
+    /**
+     * Sets ith "message-destination" element
+     */
+    public void setMessageDestinationArray(int i, com.sun.java.xml.ns.j2Ee.MessageDestinationType messageDestination)
+    {
+        generatedSetterHelperImpl(messageDestination, MESSAGEDESTINATION$48, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType insertNewMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().insert_element_user(MESSAGEDESTINATION$48, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "message-destination" element
+     */
+    public com.sun.java.xml.ns.j2Ee.MessageDestinationType addNewMessageDestination()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.MessageDestinationType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.MessageDestinationType)get_store().add_element_user(MESSAGEDESTINATION$48);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "message-destination" element
+     */
+    public void removeMessageDestination(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MESSAGEDESTINATION$48, i);
+        }
+    }
+    
+    /**
+     * Gets the "locale-encoding-mapping-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType getLocaleEncodingMappingList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType)get_store().find_element_user(LOCALEENCODINGMAPPINGLIST$50, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "locale-encoding-mapping-list" element
+     */
+    public boolean isSetLocaleEncodingMappingList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALEENCODINGMAPPINGLIST$50) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "locale-encoding-mapping-list" element
+     */
+    public void setLocaleEncodingMappingList(com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType localeEncodingMappingList)
+    {
+        generatedSetterHelperImpl(localeEncodingMappingList, LOCALEENCODINGMAPPINGLIST$50, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "locale-encoding-mapping-list" element
+     */
+    public com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType addNewLocaleEncodingMappingList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType)get_store().add_element_user(LOCALEENCODINGMAPPINGLIST$50);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "locale-encoding-mapping-list" element
+     */
+    public void unsetLocaleEncodingMappingList()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALEENCODINGMAPPINGLIST$50, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPLOYMENTEXTENSION$52, targetList);
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] result = new com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType getDeploymentExtensionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().find_element_user(DEPLOYMENTEXTENSION$52, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "deployment-extension" element
+     */
+    public int sizeOfDeploymentExtensionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPLOYMENTEXTENSION$52);
+        }
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.DeploymentExtensionType[] deploymentExtensionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(deploymentExtensionArray, DEPLOYMENTEXTENSION$52);
+    }
+    
+    /**
+     * Sets ith "deployment-extension" element
+     */
+    public void setDeploymentExtensionArray(int i, com.sun.java.xml.ns.j2Ee.DeploymentExtensionType deploymentExtension)
+    {
+        generatedSetterHelperImpl(deploymentExtension, DEPLOYMENTEXTENSION$52, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType insertNewDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().insert_element_user(DEPLOYMENTEXTENSION$52, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "deployment-extension" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DeploymentExtensionType addNewDeploymentExtension()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DeploymentExtensionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DeploymentExtensionType)get_store().add_element_user(DEPLOYMENTEXTENSION$52);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "deployment-extension" element
+     */
+    public void removeDeploymentExtension(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEPLOYMENTEXTENSION$52, i);
+        }
+    }
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.WebAppVersionType.Enum getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$54);
+            if (target == null)
+            {
+                return null;
+            }
+            return (com.sun.java.xml.ns.j2Ee.WebAppVersionType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "version" attribute
+     */
+    public com.sun.java.xml.ns.j2Ee.WebAppVersionType xgetVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebAppVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebAppVersionType)get_store().find_attribute_user(VERSION$54);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(com.sun.java.xml.ns.j2Ee.WebAppVersionType.Enum version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(VERSION$54);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(VERSION$54);
+            }
+            target.setEnumValue(version);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "version" attribute
+     */
+    public void xsetVersion(com.sun.java.xml.ns.j2Ee.WebAppVersionType version)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.WebAppVersionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.WebAppVersionType)get_store().find_attribute_user(VERSION$54);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.WebAppVersionType)get_store().add_attribute_user(VERSION$54);
+            }
+            target.set(version);
+        }
+    }
+}
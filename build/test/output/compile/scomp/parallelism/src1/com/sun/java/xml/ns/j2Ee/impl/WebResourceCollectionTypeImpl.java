@@ -0,0 +1,647 @@
+/*
+ * XML Type:  web-resource-collectionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.WebResourceCollectionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML web-resource-collectionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class WebResourceCollectionTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.WebResourceCollectionType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WebResourceCollectionTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WEBRESOURCENAME$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "web-resource-name");
+    private static final javax.xml.namespace.QName DESCRIPTION$2 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "description");
+    private static final javax.xml.namespace.QName URLPATTERN$4 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "url-pattern");
+    private static final javax.xml.namespace.QName HTTPMETHOD$6 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "http-method");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(4);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1724546052:
+                if (name.equals(DESCRIPTION$2))
+                    return ORDINAL$BASE + 1;
+                break;
+            case -820114895:
+                if (name.equals(WEBRESOURCENAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+            case -604763706:
+                if (name.equals(HTTPMETHOD$6))
+                    return ORDINAL$BASE + 3;
+                break;
+            case 1971762482:
+                if (name.equals(URLPATTERN$4))
+                    return ORDINAL$BASE + 2;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "web-resource-name" element
+     */
+    public java.lang.String getWebResourceName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WEBRESOURCENAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "web-resource-name" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetWebResourceName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(WEBRESOURCENAME$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "web-resource-name" element
+     */
+    public void setWebResourceName(java.lang.String webResourceName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WEBRESOURCENAME$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WEBRESOURCENAME$0);
+            }
+            target.setStringValue(webResourceName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "web-resource-name" element
+     */
+    public void xsetWebResourceName(com.sun.java.xml.ns.j2Ee.String webResourceName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(WEBRESOURCENAME$0, 0);
+            if (target == null)
+            {
+                target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(WEBRESOURCENAME$0);
+            }
+            target.set(webResourceName);
+        }
+    }
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType[] getDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DESCRIPTION$2, targetList);
+            com.sun.java.xml.ns.j2Ee.DescriptionType[] result = new com.sun.java.xml.ns.j2Ee.DescriptionType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType getDescriptionArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().find_element_user(DESCRIPTION$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "description" element
+     */
+    public int sizeOfDescriptionArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "description" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.DescriptionType[] descriptionArray)
+    {
+        check_orphaned();
+        arraySetterHelper(descriptionArray, DESCRIPTION$2);
+    }
+    
+    /**
+     * Sets ith "description" element
+     */
+    public void setDescriptionArray(int i, com.sun.java.xml.ns.j2Ee.DescriptionType description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType insertNewDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().insert_element_user(DESCRIPTION$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "description" element
+     */
+    public com.sun.java.xml.ns.j2Ee.DescriptionType addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.DescriptionType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.DescriptionType)get_store().add_element_user(DESCRIPTION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "description" element
+     */
+    public void removeDescription(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "url-pattern" elements
+     */
+    public java.lang.String[] getUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(URLPATTERN$4, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "url-pattern" element
+     */
+    public java.lang.String getUrlPatternArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "url-pattern" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType[] xgetUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(URLPATTERN$4, targetList);
+            com.sun.java.xml.ns.j2Ee.UrlPatternType[] result = new com.sun.java.xml.ns.j2Ee.UrlPatternType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType xgetUrlPatternArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "url-pattern" element
+     */
+    public int sizeOfUrlPatternArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "url-pattern" element
+     */
+    public void setUrlPatternArray(java.lang.String[] urlPatternArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(urlPatternArray, URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets ith "url-pattern" element
+     */
+    public void setUrlPatternArray(int i, java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "url-pattern" element
+     */
+    public void xsetUrlPatternArray(com.sun.java.xml.ns.j2Ee.UrlPatternType[]urlPatternArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(urlPatternArray, URLPATTERN$4);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "url-pattern" element
+     */
+    public void xsetUrlPatternArray(int i, com.sun.java.xml.ns.j2Ee.UrlPatternType urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().find_element_user(URLPATTERN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(urlPattern);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "url-pattern" element
+     */
+    public void insertUrlPattern(int i, java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(URLPATTERN$4, i);
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "url-pattern" element
+     */
+    public void addUrlPattern(java.lang.String urlPattern)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(URLPATTERN$4);
+            target.setStringValue(urlPattern);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType insertNewUrlPattern(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().insert_element_user(URLPATTERN$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "url-pattern" element
+     */
+    public com.sun.java.xml.ns.j2Ee.UrlPatternType addNewUrlPattern()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.UrlPatternType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.UrlPatternType)get_store().add_element_user(URLPATTERN$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "url-pattern" element
+     */
+    public void removeUrlPattern(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(URLPATTERN$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "http-method" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum[] getHttpMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(HTTPMETHOD$6, targetList);
+            com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum[] result = new com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = (com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum)((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getEnumValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "http-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum getHttpMethodArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HTTPMETHOD$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return (com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "http-method" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType[] xgetHttpMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(HTTPMETHOD$6, targetList);
+            com.sun.java.xml.ns.j2Ee.HttpMethodType[] result = new com.sun.java.xml.ns.j2Ee.HttpMethodType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "http-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType xgetHttpMethodArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HttpMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HttpMethodType)get_store().find_element_user(HTTPMETHOD$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "http-method" element
+     */
+    public int sizeOfHttpMethodArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HTTPMETHOD$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "http-method" element
+     */
+    public void setHttpMethodArray(com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum[] httpMethodArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(httpMethodArray, HTTPMETHOD$6);
+        }
+    }
+    
+    /**
+     * Sets ith "http-method" element
+     */
+    public void setHttpMethodArray(int i, com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum httpMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(HTTPMETHOD$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setEnumValue(httpMethod);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "http-method" element
+     */
+    public void xsetHttpMethodArray(com.sun.java.xml.ns.j2Ee.HttpMethodType[]httpMethodArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(httpMethodArray, HTTPMETHOD$6);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "http-method" element
+     */
+    public void xsetHttpMethodArray(int i, com.sun.java.xml.ns.j2Ee.HttpMethodType httpMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HttpMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HttpMethodType)get_store().find_element_user(HTTPMETHOD$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(httpMethod);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "http-method" element
+     */
+    public void insertHttpMethod(int i, com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum httpMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(HTTPMETHOD$6, i);
+            target.setEnumValue(httpMethod);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "http-method" element
+     */
+    public void addHttpMethod(com.sun.java.xml.ns.j2Ee.HttpMethodType.Enum httpMethod)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(HTTPMETHOD$6);
+            target.setEnumValue(httpMethod);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "http-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType insertNewHttpMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HttpMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HttpMethodType)get_store().insert_element_user(HTTPMETHOD$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "http-method" element
+     */
+    public com.sun.java.xml.ns.j2Ee.HttpMethodType addNewHttpMethod()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.HttpMethodType target = null;
+            target = (com.sun.java.xml.ns.j2Ee.HttpMethodType)get_store().add_element_user(HTTPMETHOD$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "http-method" element
+     */
+    public void removeHttpMethod(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HTTPMETHOD$6, i);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * XML Type:  welcome-file-listType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.WelcomeFileListType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.impl;
+/**
+ * An XML welcome-file-listType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a complex type.
+ */
+public class WelcomeFileListTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.sun.java.xml.ns.j2Ee.WelcomeFileListType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WelcomeFileListTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WELCOMEFILE$0 = 
+        new javax.xml.namespace.QName("http://java.sun.com/xml/ns/j2ee", "welcome-file");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -152155897:
+                if (name.equals(WELCOMEFILE$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets array of all "welcome-file" elements
+     */
+    public java.lang.String[] getWelcomeFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(WELCOMEFILE$0, targetList);
+            java.lang.String[] result = new java.lang.String[targetList.size()];
+            for (int i = 0, len = targetList.size() ; i < len ; i++)
+                result[i] = ((org.apache.xmlbeans.SimpleValue)targetList.get(i)).getStringValue();
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "welcome-file" element
+     */
+    public java.lang.String getWelcomeFileArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WELCOMEFILE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) array of all "welcome-file" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.String[] xgetWelcomeFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(WELCOMEFILE$0, targetList);
+            com.sun.java.xml.ns.j2Ee.String[] result = new com.sun.java.xml.ns.j2Ee.String[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets (as xml) ith "welcome-file" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String xgetWelcomeFileArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(WELCOMEFILE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "welcome-file" element
+     */
+    public int sizeOfWelcomeFileArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(WELCOMEFILE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "welcome-file" element
+     */
+    public void setWelcomeFileArray(java.lang.String[] welcomeFileArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(welcomeFileArray, WELCOMEFILE$0);
+        }
+    }
+    
+    /**
+     * Sets ith "welcome-file" element
+     */
+    public void setWelcomeFileArray(int i, java.lang.String welcomeFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(WELCOMEFILE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.setStringValue(welcomeFile);
+        }
+    }
+    
+    /**
+     * Sets (as xml) array of all "welcome-file" element
+     */
+    public void xsetWelcomeFileArray(com.sun.java.xml.ns.j2Ee.String[]welcomeFileArray)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            arraySetterHelper(welcomeFileArray, WELCOMEFILE$0);
+        }
+    }
+    
+    /**
+     * Sets (as xml) ith "welcome-file" element
+     */
+    public void xsetWelcomeFileArray(int i, com.sun.java.xml.ns.j2Ee.String welcomeFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().find_element_user(WELCOMEFILE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            target.set(welcomeFile);
+        }
+    }
+    
+    /**
+     * Inserts the value as the ith "welcome-file" element
+     */
+    public void insertWelcomeFile(int i, java.lang.String welcomeFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = 
+                (org.apache.xmlbeans.SimpleValue)get_store().insert_element_user(WELCOMEFILE$0, i);
+            target.setStringValue(welcomeFile);
+        }
+    }
+    
+    /**
+     * Appends the value as the last "welcome-file" element
+     */
+    public void addWelcomeFile(java.lang.String welcomeFile)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(WELCOMEFILE$0);
+            target.setStringValue(welcomeFile);
+        }
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "welcome-file" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String insertNewWelcomeFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().insert_element_user(WELCOMEFILE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "welcome-file" element
+     */
+    public com.sun.java.xml.ns.j2Ee.String addNewWelcomeFile()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.sun.java.xml.ns.j2Ee.String target = null;
+            target = (com.sun.java.xml.ns.j2Ee.String)get_store().add_element_user(WELCOMEFILE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "welcome-file" element
+     */
+    public void removeWelcomeFile(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(WELCOMEFILE$0, i);
+        }
+    }
+}
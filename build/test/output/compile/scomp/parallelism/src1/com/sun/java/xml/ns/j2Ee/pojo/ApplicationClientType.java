@@ -0,0 +1,585 @@
+/*
+ * XML Type:  application-clientType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ApplicationClientType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML application-clientType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ApplicationClientType.
+ */
+public class ApplicationClientType
+{
+    private static final java.math.BigDecimal VERSION$DEFAULT = org.apache.xmlbeans.impl.util.XsTypeConverter.lexDecimal("1.4");
+    private java.math.BigDecimal _version = VERSION$DEFAULT;
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private com.sun.java.xml.ns.j2Ee.pojo.IconType[] _icon;
+    private com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] _envEntry;
+    private com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] _ejbRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] _resourceRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] _resourceEnvRef;
+    private com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] _messageDestinationRef;
+    private java.lang.String _callbackHandler;
+    private com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] _messageDestination;
+    private com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] _deploymentExtension;
+    
+    /**
+     * Gets the "version" attribute
+     */
+    public java.math.BigDecimal getVersion()
+    {
+        return _version;
+    }
+    
+    /**
+     * Sets the "version" attribute
+     */
+    public void setVersion(java.math.BigDecimal version)
+    {
+        this._version = version;
+    }
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "icon" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.IconType[] getIconArray()
+    {
+        return _icon;
+    }
+    
+    /**
+     * Sets array of all "icon" elements
+     */
+    public void setIconArray(com.sun.java.xml.ns.j2Ee.pojo.IconType[] icon)
+    {
+        this._icon = icon;
+    }
+    
+    /**
+     * Gets array of all "env-entry" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] getEnvEntryArray()
+    {
+        return _envEntry;
+    }
+    
+    /**
+     * Sets array of all "env-entry" elements
+     */
+    public void setEnvEntryArray(com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] envEntry)
+    {
+        this._envEntry = envEntry;
+    }
+    
+    /**
+     * Gets array of all "ejb-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] getEjbRefArray()
+    {
+        return _ejbRef;
+    }
+    
+    /**
+     * Sets array of all "ejb-ref" elements
+     */
+    public void setEjbRefArray(com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] ejbRef)
+    {
+        this._ejbRef = ejbRef;
+    }
+    
+    /**
+     * Gets array of all "resource-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] getResourceRefArray()
+    {
+        return _resourceRef;
+    }
+    
+    /**
+     * Sets array of all "resource-ref" elements
+     */
+    public void setResourceRefArray(com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] resourceRef)
+    {
+        this._resourceRef = resourceRef;
+    }
+    
+    /**
+     * Gets array of all "resource-env-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] getResourceEnvRefArray()
+    {
+        return _resourceEnvRef;
+    }
+    
+    /**
+     * Sets array of all "resource-env-ref" elements
+     */
+    public void setResourceEnvRefArray(com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] resourceEnvRef)
+    {
+        this._resourceEnvRef = resourceEnvRef;
+    }
+    
+    /**
+     * Gets array of all "message-destination-ref" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] getMessageDestinationRefArray()
+    {
+        return _messageDestinationRef;
+    }
+    
+    /**
+     * Sets array of all "message-destination-ref" elements
+     */
+    public void setMessageDestinationRefArray(com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] messageDestinationRef)
+    {
+        this._messageDestinationRef = messageDestinationRef;
+    }
+    
+    /**
+     * Gets the "callback-handler" element
+     */
+    public java.lang.String getCallbackHandler()
+    {
+        return _callbackHandler;
+    }
+    
+    /**
+     * Sets the "callback-handler" element
+     */
+    public void setCallbackHandler(java.lang.String callbackHandler)
+    {
+        this._callbackHandler = callbackHandler;
+    }
+    
+    /**
+     * Gets array of all "message-destination" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] getMessageDestinationArray()
+    {
+        return _messageDestination;
+    }
+    
+    /**
+     * Sets array of all "message-destination" elements
+     */
+    public void setMessageDestinationArray(com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] messageDestination)
+    {
+        this._messageDestination = messageDestination;
+    }
+    
+    /**
+     * Gets array of all "deployment-extension" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] getDeploymentExtensionArray()
+    {
+        return _deploymentExtension;
+    }
+    
+    /**
+     * Sets array of all "deployment-extension" elements
+     */
+    public void setDeploymentExtensionArray(com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtension)
+    {
+        this._deploymentExtension = deploymentExtension;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ApplicationClientType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ApplicationClientType result = new ApplicationClientType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.IconType[] iconArray = new com.sun.java.xml.ns.j2Ee.pojo.IconType[0]; int iconCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] envEntryArray = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[0]; int envEntryCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] ejbRefArray = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[0]; int ejbRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] resourceRefArray = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[0]; int resourceRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] resourceEnvRefArray = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[0]; int resourceEnvRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] messageDestinationRefArray = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[0]; int messageDestinationRefCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] messageDestinationArray = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[0]; int messageDestinationCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] deploymentExtensionArray = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[0]; int deploymentExtensionCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("version".equals(local) && "".equals(uri))
+                result._version = reader.getAttributeBigDecimalValue(i);
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("icon".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (iconCount == iconArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.IconType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount * 2 + 4];
+                    java.lang.System.arraycopy(iconArray, 0, grown, 0, iconCount);
+                    iconArray = grown;
+                }
+                iconArray[iconCount++] = com.sun.java.xml.ns.j2Ee.pojo.IconType.read(reader);
+            }
+            else if ("env-entry".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (envEntryCount == envEntryArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[envEntryCount * 2 + 4];
+                    java.lang.System.arraycopy(envEntryArray, 0, grown, 0, envEntryCount);
+                    envEntryArray = grown;
+                }
+                envEntryArray[envEntryCount++] = com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType.read(reader);
+            }
+            else if ("ejb-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (ejbRefCount == ejbRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[ejbRefCount * 2 + 4];
+                    java.lang.System.arraycopy(ejbRefArray, 0, grown, 0, ejbRefCount);
+                    ejbRefArray = grown;
+                }
+                ejbRefArray[ejbRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.EjbRefType.read(reader);
+            }
+            else if ("resource-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (resourceRefCount == resourceRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[resourceRefCount * 2 + 4];
+                    java.lang.System.arraycopy(resourceRefArray, 0, grown, 0, resourceRefCount);
+                    resourceRefArray = grown;
+                }
+                resourceRefArray[resourceRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType.read(reader);
+            }
+            else if ("resource-env-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (resourceEnvRefCount == resourceEnvRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[resourceEnvRefCount * 2 + 4];
+                    java.lang.System.arraycopy(resourceEnvRefArray, 0, grown, 0, resourceEnvRefCount);
+                    resourceEnvRefArray = grown;
+                }
+                resourceEnvRefArray[resourceEnvRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType.read(reader);
+            }
+            else if ("message-destination-ref".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (messageDestinationRefCount == messageDestinationRefArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[messageDestinationRefCount * 2 + 4];
+                    java.lang.System.arraycopy(messageDestinationRefArray, 0, grown, 0, messageDestinationRefCount);
+                    messageDestinationRefArray = grown;
+                }
+                messageDestinationRefArray[messageDestinationRefCount++] = com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType.read(reader);
+            }
+            else if ("callback-handler".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._callbackHandler = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("message-destination".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (messageDestinationCount == messageDestinationArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[messageDestinationCount * 2 + 4];
+                    java.lang.System.arraycopy(messageDestinationArray, 0, grown, 0, messageDestinationCount);
+                    messageDestinationArray = grown;
+                }
+                messageDestinationArray[messageDestinationCount++] = com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType.read(reader);
+            }
+            else if ("deployment-extension".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (deploymentExtensionCount == deploymentExtensionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount * 2 + 4];
+                    java.lang.System.arraycopy(deploymentExtensionArray, 0, grown, 0, deploymentExtensionCount);
+                    deploymentExtensionArray = grown;
+                }
+                deploymentExtensionArray[deploymentExtensionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (iconCount != iconArray.length)
+        {
+            result._icon = new com.sun.java.xml.ns.j2Ee.pojo.IconType[iconCount];
+            java.lang.System.arraycopy(iconArray, 0, result._icon, 0, iconCount);
+        }
+        else
+            result._icon = iconArray;
+        
+        if (envEntryCount != envEntryArray.length)
+        {
+            result._envEntry = new com.sun.java.xml.ns.j2Ee.pojo.EnvEntryType[envEntryCount];
+            java.lang.System.arraycopy(envEntryArray, 0, result._envEntry, 0, envEntryCount);
+        }
+        else
+            result._envEntry = envEntryArray;
+        
+        if (ejbRefCount != ejbRefArray.length)
+        {
+            result._ejbRef = new com.sun.java.xml.ns.j2Ee.pojo.EjbRefType[ejbRefCount];
+            java.lang.System.arraycopy(ejbRefArray, 0, result._ejbRef, 0, ejbRefCount);
+        }
+        else
+            result._ejbRef = ejbRefArray;
+        
+        if (resourceRefCount != resourceRefArray.length)
+        {
+            result._resourceRef = new com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType[resourceRefCount];
+            java.lang.System.arraycopy(resourceRefArray, 0, result._resourceRef, 0, resourceRefCount);
+        }
+        else
+            result._resourceRef = resourceRefArray;
+        
+        if (resourceEnvRefCount != resourceEnvRefArray.length)
+        {
+            result._resourceEnvRef = new com.sun.java.xml.ns.j2Ee.pojo.ResourceEnvRefType[resourceEnvRefCount];
+            java.lang.System.arraycopy(resourceEnvRefArray, 0, result._resourceEnvRef, 0, resourceEnvRefCount);
+        }
+        else
+            result._resourceEnvRef = resourceEnvRefArray;
+        
+        if (messageDestinationRefCount != messageDestinationRefArray.length)
+        {
+            result._messageDestinationRef = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationRefType[messageDestinationRefCount];
+            java.lang.System.arraycopy(messageDestinationRefArray, 0, result._messageDestinationRef, 0, messageDestinationRefCount);
+        }
+        else
+            result._messageDestinationRef = messageDestinationRefArray;
+        
+        if (messageDestinationCount != messageDestinationArray.length)
+        {
+            result._messageDestination = new com.sun.java.xml.ns.j2Ee.pojo.MessageDestinationType[messageDestinationCount];
+            java.lang.System.arraycopy(messageDestinationArray, 0, result._messageDestination, 0, messageDestinationCount);
+        }
+        else
+            result._messageDestination = messageDestinationArray;
+        
+        if (deploymentExtensionCount != deploymentExtensionArray.length)
+        {
+            result._deploymentExtension = new com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType[deploymentExtensionCount];
+            java.lang.System.arraycopy(deploymentExtensionArray, 0, result._deploymentExtension, 0, deploymentExtensionCount);
+        }
+        else
+            result._deploymentExtension = deploymentExtensionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._version != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "version", org.apache.xmlbeans.impl.util.XsTypeConverter.printDecimal(this._version));
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._icon != null)
+        {
+            for (int i = 0; i < this._icon.length; i++)
+            {
+                if (this._icon[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "icon", ns);
+                    this._icon[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._envEntry != null)
+        {
+            for (int i = 0; i < this._envEntry.length; i++)
+            {
+                if (this._envEntry[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "env-entry", ns);
+                    this._envEntry[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._ejbRef != null)
+        {
+            for (int i = 0; i < this._ejbRef.length; i++)
+            {
+                if (this._ejbRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "ejb-ref", ns);
+                    this._ejbRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._resourceRef != null)
+        {
+            for (int i = 0; i < this._resourceRef.length; i++)
+            {
+                if (this._resourceRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "resource-ref", ns);
+                    this._resourceRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._resourceEnvRef != null)
+        {
+            for (int i = 0; i < this._resourceEnvRef.length; i++)
+            {
+                if (this._resourceEnvRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "resource-env-ref", ns);
+                    this._resourceEnvRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._messageDestinationRef != null)
+        {
+            for (int i = 0; i < this._messageDestinationRef.length; i++)
+            {
+                if (this._messageDestinationRef[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination-ref", ns);
+                    this._messageDestinationRef[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._callbackHandler != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "callback-handler", ns);
+            writer.writeCharacters(this._callbackHandler);
+            writer.writeEndElement();
+        }
+        if (this._messageDestination != null)
+        {
+            for (int i = 0; i < this._messageDestination.length; i++)
+            {
+                if (this._messageDestination[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "message-destination", ns);
+                    this._messageDestination[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._deploymentExtension != null)
+        {
+            for (int i = 0; i < this._deploymentExtension.length; i++)
+            {
+                if (this._deploymentExtension[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "deployment-extension", ns);
+                    this._deploymentExtension[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * XML Type:  deployment-extensionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.DeploymentExtensionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML deployment-extensionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.DeploymentExtensionType.
+ */
+public class DeploymentExtensionType
+{
+    private java.lang.String _namespace;
+    private java.lang.Boolean _mustUnderstand;
+    private com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[] _extensionElement;
+    
+    /**
+     * Gets the "namespace" attribute
+     */
+    public java.lang.String getNamespace()
+    {
+        return _namespace;
+    }
+    
+    /**
+     * Sets the "namespace" attribute
+     */
+    public void setNamespace(java.lang.String namespace)
+    {
+        this._namespace = namespace;
+    }
+    
+    /**
+     * Gets the "mustUnderstand" attribute
+     */
+    public java.lang.Boolean getMustUnderstand()
+    {
+        return _mustUnderstand;
+    }
+    
+    /**
+     * Sets the "mustUnderstand" attribute
+     */
+    public void setMustUnderstand(java.lang.Boolean mustUnderstand)
+    {
+        this._mustUnderstand = mustUnderstand;
+    }
+    
+    /**
+     * Gets array of all "extension-element" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[] getExtensionElementArray()
+    {
+        return _extensionElement;
+    }
+    
+    /**
+     * Sets array of all "extension-element" elements
+     */
+    public void setExtensionElementArray(com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[] extensionElement)
+    {
+        this._extensionElement = extensionElement;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static DeploymentExtensionType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DeploymentExtensionType result = new DeploymentExtensionType();
+        com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[] extensionElementArray = new com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[0]; int extensionElementCount = 0;
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("namespace".equals(local) && "".equals(uri))
+                result._namespace = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            else if ("mustUnderstand".equals(local) && "".equals(uri))
+                result._mustUnderstand = java.lang.Boolean.valueOf(reader.getAttributeBooleanValue(i));
+        }
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("extension-element".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (extensionElementCount == extensionElementArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[extensionElementCount * 2 + 4];
+                    java.lang.System.arraycopy(extensionElementArray, 0, grown, 0, extensionElementCount);
+                    extensionElementArray = grown;
+                }
+                extensionElementArray[extensionElementCount++] = com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (extensionElementCount != extensionElementArray.length)
+        {
+            result._extensionElement = new com.sun.java.xml.ns.j2Ee.pojo.ExtensibleType[extensionElementCount];
+            java.lang.System.arraycopy(extensionElementArray, 0, result._extensionElement, 0, extensionElementCount);
+        }
+        else
+            result._extensionElement = extensionElementArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._namespace != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "namespace", this._namespace);
+        if (this._mustUnderstand != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "", "mustUnderstand", org.apache.xmlbeans.impl.util.XsTypeConverter.printBoolean(this._mustUnderstand.booleanValue()));
+        if (this._extensionElement != null)
+        {
+            for (int i = 0; i < this._extensionElement.length; i++)
+            {
+                if (this._extensionElement[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "extension-element", ns);
+                    this._extensionElement[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * XML Type:  descriptionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.DescriptionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML descriptionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.DescriptionType.
+ */
+public class DescriptionType
+{
+    private java.lang.String _lang;
+    private java.lang.String _value;
+    
+    /**
+     * Gets the "lang" attribute
+     */
+    public java.lang.String getLang()
+    {
+        return _lang;
+    }
+    
+    /**
+     * Sets the "lang" attribute
+     */
+    public void setLang(java.lang.String lang)
+    {
+        this._lang = lang;
+    }
+    
+    /**
+     * Gets the simple content
+     */
+    public java.lang.String getValue()
+    {
+        return _value;
+    }
+    
+    /**
+     * Sets the simple content
+     */
+    public void setValue(java.lang.String value)
+    {
+        this._value = value;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static DescriptionType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        DescriptionType result = new DescriptionType();
+        
+        for (int i = 0, n = reader.getAttributeCount(); i < n; i++)
+        {
+            java.lang.String local = reader.getAttributeLocalName(i);
+            java.lang.String uri = reader.getAttributeNamespace(i);
+            if (uri == null)
+                uri = "";
+            if ("lang".equals(local) && "http://www.w3.org/XML/1998/namespace".equals(uri))
+                result._lang = reader.getAttributeStringValue(i, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+        }
+        
+        result._value = reader.getStringValue();
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._lang != null)
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeAttribute(writer, "http://www.w3.org/XML/1998/namespace", "lang", this._lang);
+        if (this._value != null)
+            writer.writeCharacters(this._value);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * XML Type:  locale-encoding-mapping-listType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingListType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML locale-encoding-mapping-listType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingListType.
+ */
+public class LocaleEncodingMappingListType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[] _localeEncodingMapping;
+    
+    /**
+     * Gets array of all "locale-encoding-mapping" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[] getLocaleEncodingMappingArray()
+    {
+        return _localeEncodingMapping;
+    }
+    
+    /**
+     * Sets array of all "locale-encoding-mapping" elements
+     */
+    public void setLocaleEncodingMappingArray(com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[] localeEncodingMapping)
+    {
+        this._localeEncodingMapping = localeEncodingMapping;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static LocaleEncodingMappingListType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        LocaleEncodingMappingListType result = new LocaleEncodingMappingListType();
+        com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[] localeEncodingMappingArray = new com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[0]; int localeEncodingMappingCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("locale-encoding-mapping".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (localeEncodingMappingCount == localeEncodingMappingArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[localeEncodingMappingCount * 2 + 4];
+                    java.lang.System.arraycopy(localeEncodingMappingArray, 0, grown, 0, localeEncodingMappingCount);
+                    localeEncodingMappingArray = grown;
+                }
+                localeEncodingMappingArray[localeEncodingMappingCount++] = com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (localeEncodingMappingCount != localeEncodingMappingArray.length)
+        {
+            result._localeEncodingMapping = new com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType[localeEncodingMappingCount];
+            java.lang.System.arraycopy(localeEncodingMappingArray, 0, result._localeEncodingMapping, 0, localeEncodingMappingCount);
+        }
+        else
+            result._localeEncodingMapping = localeEncodingMappingArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._localeEncodingMapping != null)
+        {
+            for (int i = 0; i < this._localeEncodingMapping.length; i++)
+            {
+                if (this._localeEncodingMapping[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "locale-encoding-mapping", ns);
+                    this._localeEncodingMapping[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  locale-encoding-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.LocaleEncodingMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML locale-encoding-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.LocaleEncodingMappingType.
+ */
+public class LocaleEncodingMappingType
+{
+    private java.lang.String _locale;
+    private java.lang.String _encoding;
+    
+    /**
+     * Gets the "locale" element
+     */
+    public java.lang.String getLocale()
+    {
+        return _locale;
+    }
+    
+    /**
+     * Sets the "locale" element
+     */
+    public void setLocale(java.lang.String locale)
+    {
+        this._locale = locale;
+    }
+    
+    /**
+     * Gets the "encoding" element
+     */
+    public java.lang.String getEncoding()
+    {
+        return _encoding;
+    }
+    
+    /**
+     * Sets the "encoding" element
+     */
+    public void setEncoding(java.lang.String encoding)
+    {
+        this._encoding = encoding;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static LocaleEncodingMappingType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        LocaleEncodingMappingType result = new LocaleEncodingMappingType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("locale".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._locale = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("encoding".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._encoding = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._locale != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "locale", ns);
+            writer.writeCharacters(this._locale);
+            writer.writeEndElement();
+        }
+        if (this._encoding != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "encoding", ns);
+            writer.writeCharacters(this._encoding);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * XML Type:  login-configType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.LoginConfigType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML login-configType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.LoginConfigType.
+ */
+public class LoginConfigType
+{
+    private java.lang.String _authMethod;
+    private java.lang.String _realmName;
+    private com.sun.java.xml.ns.j2Ee.pojo.FormLoginConfigType _formLoginConfig;
+    
+    /**
+     * Gets the "auth-method" element
+     */
+    public java.lang.String getAuthMethod()
+    {
+        return _authMethod;
+    }
+    
+    /**
+     * Sets the "auth-method" element
+     */
+    public void setAuthMethod(java.lang.String authMethod)
+    {
+        this._authMethod = authMethod;
+    }
+    
+    /**
+     * Gets the "realm-name" element
+     */
+    public java.lang.String getRealmName()
+    {
+        return _realmName;
+    }
+    
+    /**
+     * Sets the "realm-name" element
+     */
+    public void setRealmName(java.lang.String realmName)
+    {
+        this._realmName = realmName;
+    }
+    
+    /**
+     * Gets the "form-login-config" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.FormLoginConfigType getFormLoginConfig()
+    {
+        return _formLoginConfig;
+    }
+    
+    /**
+     * Sets the "form-login-config" element
+     */
+    public void setFormLoginConfig(com.sun.java.xml.ns.j2Ee.pojo.FormLoginConfigType formLoginConfig)
+    {
+        this._formLoginConfig = formLoginConfig;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static LoginConfigType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        LoginConfigType result = new LoginConfigType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("auth-method".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._authMethod = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("realm-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._realmName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("form-login-config".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._formLoginConfig = com.sun.java.xml.ns.j2Ee.pojo.FormLoginConfigType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._authMethod != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "auth-method", ns);
+            writer.writeCharacters(this._authMethod);
+            writer.writeEndElement();
+        }
+        if (this._realmName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "realm-name", ns);
+            writer.writeCharacters(this._realmName);
+            writer.writeEndElement();
+        }
+        if (this._formLoginConfig != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "form-login-config", ns);
+            this._formLoginConfig.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  mime-mappingType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.MimeMappingType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML mime-mappingType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.MimeMappingType.
+ */
+public class MimeMappingType
+{
+    private java.lang.String _extension;
+    private java.lang.String _mimeType;
+    
+    /**
+     * Gets the "extension" element
+     */
+    public java.lang.String getExtension()
+    {
+        return _extension;
+    }
+    
+    /**
+     * Sets the "extension" element
+     */
+    public void setExtension(java.lang.String extension)
+    {
+        this._extension = extension;
+    }
+    
+    /**
+     * Gets the "mime-type" element
+     */
+    public java.lang.String getMimeType()
+    {
+        return _mimeType;
+    }
+    
+    /**
+     * Sets the "mime-type" element
+     */
+    public void setMimeType(java.lang.String mimeType)
+    {
+        this._mimeType = mimeType;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static MimeMappingType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        MimeMappingType result = new MimeMappingType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("extension".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._extension = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("mime-type".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._mimeType = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._extension != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "extension", ns);
+            writer.writeCharacters(this._extension);
+            writer.writeEndElement();
+        }
+        if (this._mimeType != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "mime-type", ns);
+            writer.writeCharacters(this._mimeType);
+            writer.writeEndElement();
+        }
+    }
+}
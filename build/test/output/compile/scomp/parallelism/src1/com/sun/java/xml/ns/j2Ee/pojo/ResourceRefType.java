@@ -0,0 +1,204 @@
+/*
+ * XML Type:  resource-refType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.ResourceRefType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML resource-refType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.ResourceRefType.
+ */
+public class ResourceRefType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private java.lang.String _resRefName;
+    private java.lang.String _resType;
+    private java.lang.String _resAuth;
+    private java.lang.String _resSharingScope;
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets the "res-ref-name" element
+     */
+    public java.lang.String getResRefName()
+    {
+        return _resRefName;
+    }
+    
+    /**
+     * Sets the "res-ref-name" element
+     */
+    public void setResRefName(java.lang.String resRefName)
+    {
+        this._resRefName = resRefName;
+    }
+    
+    /**
+     * Gets the "res-type" element
+     */
+    public java.lang.String getResType()
+    {
+        return _resType;
+    }
+    
+    /**
+     * Sets the "res-type" element
+     */
+    public void setResType(java.lang.String resType)
+    {
+        this._resType = resType;
+    }
+    
+    /**
+     * Gets the "res-auth" element
+     */
+    public java.lang.String getResAuth()
+    {
+        return _resAuth;
+    }
+    
+    /**
+     * Sets the "res-auth" element
+     */
+    public void setResAuth(java.lang.String resAuth)
+    {
+        this._resAuth = resAuth;
+    }
+    
+    /**
+     * Gets the "res-sharing-scope" element
+     */
+    public java.lang.String getResSharingScope()
+    {
+        return _resSharingScope;
+    }
+    
+    /**
+     * Sets the "res-sharing-scope" element
+     */
+    public void setResSharingScope(java.lang.String resSharingScope)
+    {
+        this._resSharingScope = resSharingScope;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static ResourceRefType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        ResourceRefType result = new ResourceRefType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("res-ref-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._resRefName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("res-type".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._resType = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("res-auth".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._resAuth = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("res-sharing-scope".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._resSharingScope = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._resRefName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "res-ref-name", ns);
+            writer.writeCharacters(this._resRefName);
+            writer.writeEndElement();
+        }
+        if (this._resType != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "res-type", ns);
+            writer.writeCharacters(this._resType);
+            writer.writeEndElement();
+        }
+        if (this._resAuth != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "res-auth", ns);
+            writer.writeCharacters(this._resAuth);
+            writer.writeEndElement();
+        }
+        if (this._resSharingScope != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "res-sharing-scope", ns);
+            writer.writeCharacters(this._resSharingScope);
+            writer.writeEndElement();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * XML Type:  security-constraintType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.SecurityConstraintType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML security-constraintType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.SecurityConstraintType.
+ */
+public class SecurityConstraintType
+{
+    private com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] _displayName;
+    private com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[] _webResourceCollection;
+    private com.sun.java.xml.ns.j2Ee.pojo.AuthConstraintType _authConstraint;
+    private com.sun.java.xml.ns.j2Ee.pojo.UserDataConstraintType _userDataConstraint;
+    
+    /**
+     * Gets array of all "display-name" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] getDisplayNameArray()
+    {
+        return _displayName;
+    }
+    
+    /**
+     * Sets array of all "display-name" elements
+     */
+    public void setDisplayNameArray(com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayName)
+    {
+        this._displayName = displayName;
+    }
+    
+    /**
+     * Gets array of all "web-resource-collection" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[] getWebResourceCollectionArray()
+    {
+        return _webResourceCollection;
+    }
+    
+    /**
+     * Sets array of all "web-resource-collection" elements
+     */
+    public void setWebResourceCollectionArray(com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[] webResourceCollection)
+    {
+        this._webResourceCollection = webResourceCollection;
+    }
+    
+    /**
+     * Gets the "auth-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.AuthConstraintType getAuthConstraint()
+    {
+        return _authConstraint;
+    }
+    
+    /**
+     * Sets the "auth-constraint" element
+     */
+    public void setAuthConstraint(com.sun.java.xml.ns.j2Ee.pojo.AuthConstraintType authConstraint)
+    {
+        this._authConstraint = authConstraint;
+    }
+    
+    /**
+     * Gets the "user-data-constraint" element
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.UserDataConstraintType getUserDataConstraint()
+    {
+        return _userDataConstraint;
+    }
+    
+    /**
+     * Sets the "user-data-constraint" element
+     */
+    public void setUserDataConstraint(com.sun.java.xml.ns.j2Ee.pojo.UserDataConstraintType userDataConstraint)
+    {
+        this._userDataConstraint = userDataConstraint;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static SecurityConstraintType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        SecurityConstraintType result = new SecurityConstraintType();
+        com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] displayNameArray = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[0]; int displayNameCount = 0;
+        com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[] webResourceCollectionArray = new com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[0]; int webResourceCollectionCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("display-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (displayNameCount == displayNameArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount * 2 + 4];
+                    java.lang.System.arraycopy(displayNameArray, 0, grown, 0, displayNameCount);
+                    displayNameArray = grown;
+                }
+                displayNameArray[displayNameCount++] = com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType.read(reader);
+            }
+            else if ("web-resource-collection".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (webResourceCollectionCount == webResourceCollectionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[webResourceCollectionCount * 2 + 4];
+                    java.lang.System.arraycopy(webResourceCollectionArray, 0, grown, 0, webResourceCollectionCount);
+                    webResourceCollectionArray = grown;
+                }
+                webResourceCollectionArray[webResourceCollectionCount++] = com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType.read(reader);
+            }
+            else if ("auth-constraint".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._authConstraint = com.sun.java.xml.ns.j2Ee.pojo.AuthConstraintType.read(reader);
+            }
+            else if ("user-data-constraint".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._userDataConstraint = com.sun.java.xml.ns.j2Ee.pojo.UserDataConstraintType.read(reader);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (displayNameCount != displayNameArray.length)
+        {
+            result._displayName = new com.sun.java.xml.ns.j2Ee.pojo.DisplayNameType[displayNameCount];
+            java.lang.System.arraycopy(displayNameArray, 0, result._displayName, 0, displayNameCount);
+        }
+        else
+            result._displayName = displayNameArray;
+        
+        if (webResourceCollectionCount != webResourceCollectionArray.length)
+        {
+            result._webResourceCollection = new com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType[webResourceCollectionCount];
+            java.lang.System.arraycopy(webResourceCollectionArray, 0, result._webResourceCollection, 0, webResourceCollectionCount);
+        }
+        else
+            result._webResourceCollection = webResourceCollectionArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._displayName != null)
+        {
+            for (int i = 0; i < this._displayName.length; i++)
+            {
+                if (this._displayName[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "display-name", ns);
+                    this._displayName[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._webResourceCollection != null)
+        {
+            for (int i = 0; i < this._webResourceCollection.length; i++)
+            {
+                if (this._webResourceCollection[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "web-resource-collection", ns);
+                    this._webResourceCollection[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._authConstraint != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "auth-constraint", ns);
+            this._authConstraint.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+        if (this._userDataConstraint != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "user-data-constraint", ns);
+            this._userDataConstraint.write(writer, "http://java.sun.com/xml/ns/j2ee");
+            writer.writeEndElement();
+        }
+    }
+}
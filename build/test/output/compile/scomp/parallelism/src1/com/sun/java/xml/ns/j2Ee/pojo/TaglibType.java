@@ -0,0 +1,102 @@
+/*
+ * XML Type:  taglibType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.TaglibType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML taglibType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.TaglibType.
+ */
+public class TaglibType
+{
+    private java.lang.String _taglibUri;
+    private java.lang.String _taglibLocation;
+    
+    /**
+     * Gets the "taglib-uri" element
+     */
+    public java.lang.String getTaglibUri()
+    {
+        return _taglibUri;
+    }
+    
+    /**
+     * Sets the "taglib-uri" element
+     */
+    public void setTaglibUri(java.lang.String taglibUri)
+    {
+        this._taglibUri = taglibUri;
+    }
+    
+    /**
+     * Gets the "taglib-location" element
+     */
+    public java.lang.String getTaglibLocation()
+    {
+        return _taglibLocation;
+    }
+    
+    /**
+     * Sets the "taglib-location" element
+     */
+    public void setTaglibLocation(java.lang.String taglibLocation)
+    {
+        this._taglibLocation = taglibLocation;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static TaglibType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        TaglibType result = new TaglibType();
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("taglib-uri".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._taglibUri = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("taglib-location".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._taglibLocation = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._taglibUri != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "taglib-uri", ns);
+            writer.writeCharacters(this._taglibUri);
+            writer.writeEndElement();
+        }
+        if (this._taglibLocation != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "taglib-location", ns);
+            writer.writeCharacters(this._taglibLocation);
+            writer.writeEndElement();
+        }
+    }
+}
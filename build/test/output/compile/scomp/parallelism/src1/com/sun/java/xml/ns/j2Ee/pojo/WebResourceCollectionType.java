@@ -0,0 +1,219 @@
+/*
+ * XML Type:  web-resource-collectionType
+ * Namespace: http://java.sun.com/xml/ns/j2ee
+ * Java type: com.sun.java.xml.ns.j2Ee.pojo.WebResourceCollectionType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.sun.java.xml.ns.j2Ee.pojo;
+
+/**
+ * An XML web-resource-collectionType(@http://java.sun.com/xml/ns/j2ee).
+ *
+ * This is a plain Java binding of com.sun.java.xml.ns.j2Ee.WebResourceCollectionType.
+ */
+public class WebResourceCollectionType
+{
+    private java.lang.String _webResourceName;
+    private com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] _description;
+    private java.lang.String[] _urlPattern;
+    private java.lang.String[] _httpMethod;
+    
+    /**
+     * Gets the "web-resource-name" element
+     */
+    public java.lang.String getWebResourceName()
+    {
+        return _webResourceName;
+    }
+    
+    /**
+     * Sets the "web-resource-name" element
+     */
+    public void setWebResourceName(java.lang.String webResourceName)
+    {
+        this._webResourceName = webResourceName;
+    }
+    
+    /**
+     * Gets array of all "description" elements
+     */
+    public com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] getDescriptionArray()
+    {
+        return _description;
+    }
+    
+    /**
+     * Sets array of all "description" elements
+     */
+    public void setDescriptionArray(com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] description)
+    {
+        this._description = description;
+    }
+    
+    /**
+     * Gets array of all "url-pattern" elements
+     */
+    public java.lang.String[] getUrlPatternArray()
+    {
+        return _urlPattern;
+    }
+    
+    /**
+     * Sets array of all "url-pattern" elements
+     */
+    public void setUrlPatternArray(java.lang.String[] urlPattern)
+    {
+        this._urlPattern = urlPattern;
+    }
+    
+    /**
+     * Gets array of all "http-method" elements
+     */
+    public java.lang.String[] getHttpMethodArray()
+    {
+        return _httpMethod;
+    }
+    
+    /**
+     * Sets array of all "http-method" elements
+     */
+    public void setHttpMethodArray(java.lang.String[] httpMethod)
+    {
+        this._httpMethod = httpMethod;
+    }
+    
+    /**
+     * Reads an instance from the element the reader is on, and leaves
+     * the reader on the end of that element.
+     */
+    public static WebResourceCollectionType read(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt reader)
+        throws javax.xml.stream.XMLStreamException
+    {
+        WebResourceCollectionType result = new WebResourceCollectionType();
+        com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] descriptionArray = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[0]; int descriptionCount = 0;
+        java.lang.String[] urlPatternArray = new java.lang.String[0]; int urlPatternCount = 0;
+        java.lang.String[] httpMethodArray = new java.lang.String[0]; int httpMethodCount = 0;
+        
+        for (int event = reader.next(); event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.END_ELEMENT; event = reader.next())
+        {
+            if (event != org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.START_ELEMENT)
+                continue;
+            java.lang.String local = reader.getLocalName();
+            java.lang.String uri = org.apache.xmlbeans.impl.richParser.BindingSupport.namespaceOf(reader);
+            if ("web-resource-name".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                result._webResourceName = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("description".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (descriptionCount == descriptionArray.length)
+                {
+                    com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[] grown = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount * 2 + 4];
+                    java.lang.System.arraycopy(descriptionArray, 0, grown, 0, descriptionCount);
+                    descriptionArray = grown;
+                }
+                descriptionArray[descriptionCount++] = com.sun.java.xml.ns.j2Ee.pojo.DescriptionType.read(reader);
+            }
+            else if ("url-pattern".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (urlPatternCount == urlPatternArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[urlPatternCount * 2 + 4];
+                    java.lang.System.arraycopy(urlPatternArray, 0, grown, 0, urlPatternCount);
+                    urlPatternArray = grown;
+                }
+                urlPatternArray[urlPatternCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else if ("http-method".equals(local) && "http://java.sun.com/xml/ns/j2ee".equals(uri))
+            {
+                if (httpMethodCount == httpMethodArray.length)
+                {
+                    java.lang.String[] grown = new java.lang.String[httpMethodCount * 2 + 4];
+                    java.lang.System.arraycopy(httpMethodArray, 0, grown, 0, httpMethodCount);
+                    httpMethodArray = grown;
+                }
+                httpMethodArray[httpMethodCount++] = reader.getStringValue(org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt.WS_COLLAPSE);
+            }
+            else
+                org.apache.xmlbeans.impl.richParser.BindingSupport.skipElement(reader);
+        }
+        
+        if (descriptionCount != descriptionArray.length)
+        {
+            result._description = new com.sun.java.xml.ns.j2Ee.pojo.DescriptionType[descriptionCount];
+            java.lang.System.arraycopy(descriptionArray, 0, result._description, 0, descriptionCount);
+        }
+        else
+            result._description = descriptionArray;
+        
+        if (urlPatternCount != urlPatternArray.length)
+        {
+            result._urlPattern = new java.lang.String[urlPatternCount];
+            java.lang.System.arraycopy(urlPatternArray, 0, result._urlPattern, 0, urlPatternCount);
+        }
+        else
+            result._urlPattern = urlPatternArray;
+        
+        if (httpMethodCount != httpMethodArray.length)
+        {
+            result._httpMethod = new java.lang.String[httpMethodCount];
+            java.lang.System.arraycopy(httpMethodArray, 0, result._httpMethod, 0, httpMethodCount);
+        }
+        else
+            result._httpMethod = httpMethodArray;
+        return result;
+    }
+    
+    /**
+     * Writes the attributes and the content of this object into the
+     * element the writer has just started, in whose scope ns is the
+     * default namespace.
+     */
+    public void write(javax.xml.stream.XMLStreamWriter writer, java.lang.String ns)
+        throws javax.xml.stream.XMLStreamException
+    {
+        if (this._webResourceName != null)
+        {
+            org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "web-resource-name", ns);
+            writer.writeCharacters(this._webResourceName);
+            writer.writeEndElement();
+        }
+        if (this._description != null)
+        {
+            for (int i = 0; i < this._description.length; i++)
+            {
+                if (this._description[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "description", ns);
+                    this._description[i].write(writer, "http://java.sun.com/xml/ns/j2ee");
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._urlPattern != null)
+        {
+            for (int i = 0; i < this._urlPattern.length; i++)
+            {
+                if (this._urlPattern[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "url-pattern", ns);
+                    writer.writeCharacters(this._urlPattern[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+        if (this._httpMethod != null)
+        {
+            for (int i = 0; i < this._httpMethod.length; i++)
+            {
+                if (this._httpMethod[i] != null)
+                {
+                    org.apache.xmlbeans.impl.richParser.BindingSupport.writeStartElement(writer, "http://java.sun.com/xml/ns/j2ee", "http-method", ns);
+                    writer.writeCharacters(this._httpMethod[i]);
+                    writer.writeEndElement();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * XML Type:  orderTypeCodedType
+ * Namespace: http://www.example.com/IPO
+ * Java type: com.example.ipo.OrderTypeCodedType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.example.ipo;
+
+
+/**
+ * An XML orderTypeCodedType(@http://www.example.com/IPO).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     com.example.ipo.OrderTypeCodedType$Member
+ *     com.example.ipo.OrderTypeCodedType$Member2
+ */
+public interface OrderTypeCodedType extends org.apache.xmlbeans.XmlAnySimpleType
+{
+    java.lang.Object getObjectValue();
+    void setObjectValue(java.lang.Object val);
+    /** @deprecated */
+    java.lang.Object objectValue();
+    /** @deprecated */
+    void objectSet(java.lang.Object val);
+    org.apache.xmlbeans.SchemaType instanceType();
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OrderTypeCodedType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sBE7E922406984DA2D0C05D83630A09D2").resolveHandle("ordertypecodedtype81fbtype");
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of com.example.ipo.OrderTypeCodedType$Member.
+     */
+    public interface Member extends org.apache.xmlbeans.XmlInteger
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Member.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sBE7E922406984DA2D0C05D83630A09D2").resolveHandle("anoneca0type");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.example.ipo.OrderTypeCodedType.Member newValue(java.lang.Object obj) {
+              return (com.example.ipo.OrderTypeCodedType.Member) type.newValue( obj ); }
+            
+            public static com.example.ipo.OrderTypeCodedType.Member newInstance() {
+              return (com.example.ipo.OrderTypeCodedType.Member) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.example.ipo.OrderTypeCodedType.Member newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.example.ipo.OrderTypeCodedType.Member) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of com.example.ipo.OrderTypeCodedType$Member2.
+     */
+    public interface Member2 extends org.apache.xmlbeans.XmlToken
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Member2.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sBE7E922406984DA2D0C05D83630A09D2").resolveHandle("anon86a1type");
+        
+        org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+        void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+        
+        static final Enum NEW_CONNECT = Enum.forString("newConnect");
+        static final Enum CHANGE_SERVICE = Enum.forString("changeService");
+        
+        static final int INT_NEW_CONNECT = Enum.INT_NEW_CONNECT;
+        static final int INT_CHANGE_SERVICE = Enum.INT_CHANGE_SERVICE;
+        
+        /**
+         * Enumeration value class for com.example.ipo.OrderTypeCodedType$Member2.
+         * These enum values can be used as follows:
+         * <pre>
+         * enum.toString(); // returns the string value of the enum
+         * enum.intValue(); // returns an int value, useful for switches
+         * // e.g., case Enum.INT_NEW_CONNECT
+         * Enum.forString(s); // returns the enum value for a string
+         * Enum.forInt(i); // returns the enum value for an int
+         * </pre>
+         * Enumeration objects are immutable singleton objects that
+         * can be compared using == object equality. They have no
+         * public constructor. See the constants defined within this
+         * class for all the valid values.
+         */
+        static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+        {
+            /**
+             * Returns the enum value for a string, or null if none.
+             */
+            public static Enum forString(java.lang.String s)
+                { return (Enum)table.forString(s); }
+            /**
+             * Returns the enum value corresponding to an int, or null if none.
+             */
+            public static Enum forInt(int i)
+                { return (Enum)table.forInt(i); }
+            
+            private Enum(java.lang.String s, int i)
+                { super(s, i); }
+            
+            static final int INT_NEW_CONNECT = 1;
+            static final int INT_CHANGE_SERVICE = 2;
+            
+            public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                new org.apache.xmlbeans.StringEnumAbstractBase.Table
+            (
+                new Enum[]
+                {
+                    new Enum("newConnect", INT_NEW_CONNECT),
+                    new Enum("changeService", INT_CHANGE_SERVICE),
+                }
+            );
+            private static final long serialVersionUID = 1L;
+            private java.lang.Object readResolve() { return forInt(intValue()); } 
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.example.ipo.OrderTypeCodedType.Member2 newValue(java.lang.Object obj) {
+              return (com.example.ipo.OrderTypeCodedType.Member2) type.newValue( obj ); }
+            
+            public static com.example.ipo.OrderTypeCodedType.Member2 newInstance() {
+              return (com.example.ipo.OrderTypeCodedType.Member2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.example.ipo.OrderTypeCodedType.Member2 newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.example.ipo.OrderTypeCodedType.Member2) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.example.ipo.OrderTypeCodedType newValue(java.lang.Object obj) {
+          return (com.example.ipo.OrderTypeCodedType) type.newValue( obj ); }
+        
+        public static com.example.ipo.OrderTypeCodedType newInstance() {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.example.ipo.OrderTypeCodedType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.example.ipo.OrderTypeCodedType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.example.ipo.OrderTypeCodedType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.example.ipo.OrderTypeCodedType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.example.ipo.OrderTypeCodedType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * XML Type:  orderTypeCodedType
+ * Namespace: http://www.example.com/IPO
+ * Java type: com.example.ipo.OrderTypeCodedType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.example.ipo.impl;
+/**
+ * An XML orderTypeCodedType(@http://www.example.com/IPO).
+ *
+ * This is a union type. Instances are of one of the following types:
+ *     com.example.ipo.OrderTypeCodedType$Member
+ *     com.example.ipo.OrderTypeCodedType$Member2
+ */
+public class OrderTypeCodedTypeImpl extends org.apache.xmlbeans.impl.values.XmlUnionImpl implements com.example.ipo.OrderTypeCodedType, com.example.ipo.OrderTypeCodedType.Member, com.example.ipo.OrderTypeCodedType.Member2
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected OrderTypeCodedTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of com.example.ipo.OrderTypeCodedType$Member.
+     */
+    public static class MemberImpl extends org.apache.xmlbeans.impl.values.JavaIntegerHolderEx implements com.example.ipo.OrderTypeCodedType.Member
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MemberImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected MemberImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An anonymous inner XML type.
+     *
+     * This is an atomic type that is a restriction of com.example.ipo.OrderTypeCodedType$Member2.
+     */
+    public static class MemberImpl2 extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements com.example.ipo.OrderTypeCodedType.Member2
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MemberImpl2(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected MemberImpl2(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
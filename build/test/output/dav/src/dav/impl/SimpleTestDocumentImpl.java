@@ -0,0 +1,95 @@
+/*
+ * An XML document type.
+ * Localname: simpleTest
+ * Namespace: DAV:
+ * Java type: dav.SimpleTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package dav.impl;
+/**
+ * A document containing one simpleTest(@DAV:) element.
+ *
+ * This is a complex type.
+ */
+public class SimpleTestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements dav.SimpleTestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SimpleTestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SIMPLETEST$0 = 
+        new javax.xml.namespace.QName("DAV:", "simpleTest");
+    
+    
+    /**
+     * Gets the "simpleTest" element
+     */
+    public java.lang.String getSimpleTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLETEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "simpleTest" element
+     */
+    public org.apache.xmlbeans.XmlString xgetSimpleTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLETEST$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "simpleTest" element
+     */
+    public void setSimpleTest(java.lang.String simpleTest)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SIMPLETEST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SIMPLETEST$0);
+            }
+            target.setStringValue(simpleTest);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "simpleTest" element
+     */
+    public void xsetSimpleTest(org.apache.xmlbeans.XmlString simpleTest)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(SIMPLETEST$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(SIMPLETEST$0);
+            }
+            target.set(simpleTest);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * XML Type:  aType
+ * Namespace: http://baz
+ * Java type: baz.AType
+ *
+ * Automatically generated - do not modify.
+ */
+package baz.impl;
+/**
+ * An XML aType(@http://baz).
+ *
+ * This is an atomic type that is a restriction of baz.AType.
+ */
+public class ATypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements baz.AType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ATypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected ATypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName ATTRNAME$0 = 
+        new javax.xml.namespace.QName("", "attrName");
+    
+    
+    /**
+     * Gets the "attrName" attribute
+     */
+    public java.lang.String getAttrName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTRNAME$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "attrName" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetAttrName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTRNAME$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "attrName" attribute
+     */
+    public boolean isSetAttrName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ATTRNAME$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "attrName" attribute
+     */
+    public void setAttrName(java.lang.String attrName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ATTRNAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ATTRNAME$0);
+            }
+            target.setStringValue(attrName);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "attrName" attribute
+     */
+    public void xsetAttrName(org.apache.xmlbeans.XmlString attrName)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(ATTRNAME$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(ATTRNAME$0);
+            }
+            target.set(attrName);
+        }
+    }
+    
+    /**
+     * Unsets the "attrName" attribute
+     */
+    public void unsetAttrName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(ATTRNAME$0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * An XML document type.
+ * Localname: elName
+ * Namespace: http://baz
+ * Java type: baz.ElNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package baz.impl;
+/**
+ * A document containing one elName(@http://baz) element.
+ *
+ * This is a complex type.
+ */
+public class ElNameDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements baz.ElNameDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ElNameDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ELNAME$0 = 
+        new javax.xml.namespace.QName("http://baz", "elName");
+    
+    private static final int ORDINAL$BASE = new_element_ordinals(1);
+    
+    public int get_element_ordinal(javax.xml.namespace.QName name)
+    {
+        switch (name.getLocalPart().hashCode())
+        {
+            case -1301262382:
+                if (name.equals(ELNAME$0))
+                    return ORDINAL$BASE + 0;
+                break;
+        }
+        return super.get_element_ordinal(name);
+    }
+    
+    
+    /**
+     * Gets the "elName" element
+     */
+    public baz.AType getElName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            baz.AType target = null;
+            target = (baz.AType)get_store().find_element_user(ELNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "elName" element
+     */
+    public void setElName(baz.AType elName)
+    {
+        generatedSetterHelperImpl(elName, ELNAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "elName" element
+     */
+    public baz.AType addNewElName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            baz.AType target = null;
+            target = (baz.AType)get_store().add_element_user(ELNAME$0);
+            return target;
+        }
+    }
+}
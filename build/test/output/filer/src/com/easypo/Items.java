@@ -0,0 +1,339 @@
+/*
+ * XML Type:  Items
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.Items
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo;
+
+
+/**
+ * An XML Items(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public interface Items extends org.apache.xmlbeans.XmlObject, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Items.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("items245dtype");
+    
+    /**
+     * Gets array of all "item" elements
+     */
+    com.easypo.Items.Item[] getItemArray();
+    
+    /**
+     * Gets ith "item" element
+     */
+    com.easypo.Items.Item getItemArray(int i);
+    
+    /**
+     * Returns number of "item" element
+     */
+    int sizeOfItemArray();
+    
+    /**
+     * Sets array of all "item" element
+     */
+    void setItemArray(com.easypo.Items.Item[] itemArray);
+    
+    /**
+     * Sets ith "item" element
+     */
+    void setItemArray(int i, com.easypo.Items.Item item);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "item" element
+     */
+    com.easypo.Items.Item insertNewItem(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "item" element
+     */
+    com.easypo.Items.Item addNewItem();
+    
+    /**
+     * Removes the ith "item" element
+     */
+    void removeItem(int i);
+    
+    /**
+     * An XML item(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+     *
+     * This is a complex type.
+     */
+    public interface Item extends org.apache.xmlbeans.XmlObject, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Item.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("item9a8eelemtype");
+        
+        /**
+         * Gets the "productName" element
+         */
+        java.lang.String getProductName();
+        
+        /**
+         * Gets (as xml) the "productName" element
+         */
+        org.apache.xmlbeans.XmlString xgetProductName();
+        
+        /**
+         * Sets the "productName" element
+         */
+        void setProductName(java.lang.String productName);
+        
+        /**
+         * Sets (as xml) the "productName" element
+         */
+        void xsetProductName(org.apache.xmlbeans.XmlString productName);
+        
+        /**
+         * Gets the "quantity" element
+         */
+        int getQuantity();
+        
+        /**
+         * Gets (as xml) the "quantity" element
+         */
+        com.easypo.Items.Item.Quantity xgetQuantity();
+        
+        /**
+         * Sets the "quantity" element
+         */
+        void setQuantity(int quantity);
+        
+        /**
+         * Sets (as xml) the "quantity" element
+         */
+        void xsetQuantity(com.easypo.Items.Item.Quantity quantity);
+        
+        /**
+         * Gets the "USPrice" element
+         */
+        java.math.BigDecimal getUSPrice();
+        
+        /**
+         * Gets (as xml) the "USPrice" element
+         */
+        org.apache.xmlbeans.XmlDecimal xgetUSPrice();
+        
+        /**
+         * Sets the "USPrice" element
+         */
+        void setUSPrice(java.math.BigDecimal usPrice);
+        
+        /**
+         * Sets (as xml) the "USPrice" element
+         */
+        void xsetUSPrice(org.apache.xmlbeans.XmlDecimal usPrice);
+        
+        /**
+         * Gets the "comment" element
+         */
+        java.lang.String getComment();
+        
+        /**
+         * Gets (as xml) the "comment" element
+         */
+        org.apache.xmlbeans.XmlString xgetComment();
+        
+        /**
+         * True if has "comment" element
+         */
+        boolean isSetComment();
+        
+        /**
+         * Sets the "comment" element
+         */
+        void setComment(java.lang.String comment);
+        
+        /**
+         * Sets (as xml) the "comment" element
+         */
+        void xsetComment(org.apache.xmlbeans.XmlString comment);
+        
+        /**
+         * Unsets the "comment" element
+         */
+        void unsetComment();
+        
+        /**
+         * Gets the "shipDate" element
+         */
+        java.util.Calendar getShipDate();
+        
+        /**
+         * Gets (as xml) the "shipDate" element
+         */
+        org.apache.xmlbeans.XmlDate xgetShipDate();
+        
+        /**
+         * True if has "shipDate" element
+         */
+        boolean isSetShipDate();
+        
+        /**
+         * Sets the "shipDate" element
+         */
+        void setShipDate(java.util.Calendar shipDate);
+        
+        /**
+         * Sets (as xml) the "shipDate" element
+         */
+        void xsetShipDate(org.apache.xmlbeans.XmlDate shipDate);
+        
+        /**
+         * Unsets the "shipDate" element
+         */
+        void unsetShipDate();
+        
+        /**
+         * Gets the "partNum" attribute
+         */
+        java.lang.String getPartNum();
+        
+        /**
+         * Gets (as xml) the "partNum" attribute
+         */
+        com.easypo.SKU xgetPartNum();
+        
+        /**
+         * Sets the "partNum" attribute
+         */
+        void setPartNum(java.lang.String partNum);
+        
+        /**
+         * Sets (as xml) the "partNum" attribute
+         */
+        void xsetPartNum(com.easypo.SKU partNum);
+        
+        /**
+         * An XML quantity(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+         *
+         * This is an atomic type that is a restriction of com.easypo.Items$Item$Quantity.
+         */
+        public interface Quantity extends org.apache.xmlbeans.XmlPositiveInteger, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+        {
+            int getIntValue();
+            void setIntValue(int i);
+            /** @deprecated */
+            int intValue();
+            /** @deprecated */
+            void set(int i);
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Quantity.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("quantity20b5elemtype");
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static com.easypo.Items.Item.Quantity newValue(java.lang.Object obj) {
+                  return (com.easypo.Items.Item.Quantity) type.newValue( obj ); }
+                
+                public static com.easypo.Items.Item.Quantity newInstance() {
+                  return (com.easypo.Items.Item.Quantity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static com.easypo.Items.Item.Quantity newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (com.easypo.Items.Item.Quantity) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static com.easypo.Items.Item newInstance() {
+              return (com.easypo.Items.Item) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static com.easypo.Items.Item newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (com.easypo.Items.Item) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.easypo.Items newInstance() {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.easypo.Items newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.easypo.Items parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.easypo.Items parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.easypo.Items parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.easypo.Items parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.easypo.Items parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.easypo.Items parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.easypo.Items parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.easypo.Items parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.easypo.Items parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.easypo.Items parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.easypo.Items parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.easypo.Items parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.easypo.Items parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.easypo.Items parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.Items parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.Items parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.Items) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
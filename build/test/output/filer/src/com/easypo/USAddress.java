@@ -0,0 +1,236 @@
+/*
+ * XML Type:  USAddress
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.USAddress
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo;
+
+
+/**
+ * An XML USAddress(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public interface USAddress extends org.apache.xmlbeans.XmlObject, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(USAddress.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("usaddressb8c7type");
+    
+    /**
+     * Gets the "name" element
+     */
+    java.lang.String getName2();
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    org.apache.xmlbeans.XmlString xgetName2();
+    
+    /**
+     * Tests for nil "name" element
+     */
+    boolean isNilName2();
+    
+    /**
+     * Sets the "name" element
+     */
+    void setName2(java.lang.String name2);
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    void xsetName2(org.apache.xmlbeans.XmlString name2);
+    
+    /**
+     * Nils the "name" element
+     */
+    void setNilName2();
+    
+    /**
+     * Gets the "street" element
+     */
+    java.lang.String getStreet();
+    
+    /**
+     * Gets (as xml) the "street" element
+     */
+    org.apache.xmlbeans.XmlString xgetStreet();
+    
+    /**
+     * Sets the "street" element
+     */
+    void setStreet(java.lang.String street);
+    
+    /**
+     * Sets (as xml) the "street" element
+     */
+    void xsetStreet(org.apache.xmlbeans.XmlString street);
+    
+    /**
+     * Gets the "city" element
+     */
+    java.lang.String getCity();
+    
+    /**
+     * Gets (as xml) the "city" element
+     */
+    org.apache.xmlbeans.XmlString xgetCity();
+    
+    /**
+     * Sets the "city" element
+     */
+    void setCity(java.lang.String city);
+    
+    /**
+     * Sets (as xml) the "city" element
+     */
+    void xsetCity(org.apache.xmlbeans.XmlString city);
+    
+    /**
+     * Gets the "state" element
+     */
+    java.lang.String getState();
+    
+    /**
+     * Gets (as xml) the "state" element
+     */
+    org.apache.xmlbeans.XmlString xgetState();
+    
+    /**
+     * Sets the "state" element
+     */
+    void setState(java.lang.String state);
+    
+    /**
+     * Sets (as xml) the "state" element
+     */
+    void xsetState(org.apache.xmlbeans.XmlString state);
+    
+    /**
+     * Gets the "zip" element
+     */
+    java.math.BigDecimal getZip();
+    
+    /**
+     * Gets (as xml) the "zip" element
+     */
+    org.apache.xmlbeans.XmlDecimal xgetZip();
+    
+    /**
+     * Sets the "zip" element
+     */
+    void setZip(java.math.BigDecimal zip);
+    
+    /**
+     * Sets (as xml) the "zip" element
+     */
+    void xsetZip(org.apache.xmlbeans.XmlDecimal zip);
+    
+    /**
+     * Gets the "country" attribute
+     */
+    java.lang.String getCountry();
+    
+    /**
+     * Gets (as xml) the "country" attribute
+     */
+    org.apache.xmlbeans.XmlNMTOKEN xgetCountry();
+    
+    /**
+     * True if has "country" attribute
+     */
+    boolean isSetCountry();
+    
+    /**
+     * Sets the "country" attribute
+     */
+    void setCountry(java.lang.String country);
+    
+    /**
+     * Sets (as xml) the "country" attribute
+     */
+    void xsetCountry(org.apache.xmlbeans.XmlNMTOKEN country);
+    
+    /**
+     * Unsets the "country" attribute
+     */
+    void unsetCountry();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static com.easypo.USAddress newInstance() {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static com.easypo.USAddress newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static com.easypo.USAddress parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static com.easypo.USAddress parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static com.easypo.USAddress parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static com.easypo.USAddress parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static com.easypo.USAddress parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static com.easypo.USAddress parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static com.easypo.USAddress parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static com.easypo.USAddress parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static com.easypo.USAddress parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static com.easypo.USAddress parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static com.easypo.USAddress parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static com.easypo.USAddress parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static com.easypo.USAddress parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static com.easypo.USAddress parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.USAddress parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static com.easypo.USAddress parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (com.easypo.USAddress) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * An XML document type.
+ * Localname: comment
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.CommentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * A document containing one comment(@http://xbean.interface_feature/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public class CommentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.CommentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CommentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName COMMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "comment");
+    
+    
+    /**
+     * Gets the "comment" element
+     */
+    public java.lang.String getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "comment" element
+     */
+    public void setComment(java.lang.String comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$0, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$0);
+                }
+                target.setStringValue(comment);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$0, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    public void xsetComment(org.apache.xmlbeans.XmlString comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$0, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$0);
+                }
+                target.set(comment);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$0, false, -1);
+        }
+    }
+}
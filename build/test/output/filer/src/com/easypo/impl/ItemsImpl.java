@@ -0,0 +1,816 @@
+/*
+ * XML Type:  Items
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.Items
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * An XML Items(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class ItemsImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.Items
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ItemsImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName ITEM$0 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "item");
+    
+    
+    /**
+     * Gets array of all "item" elements
+     */
+    public com.easypo.Items.Item[] getItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ITEM$0, targetList);
+            com.easypo.Items.Item[] result = new com.easypo.Items.Item[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "item" element
+     */
+    public com.easypo.Items.Item getItemArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.Items.Item target = null;
+            target = (com.easypo.Items.Item)get_store().find_element_user(ITEM$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "item" element
+     */
+    public int sizeOfItemArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ITEM$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "item" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setItemArray(com.easypo.Items.Item[] itemArray)
+    {
+        check_orphaned();
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEM$0, false, -1))
+        {
+            arraySetterHelper(itemArray, ITEM$0);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEM$0, false, -1);
+    }
+    
+    /**
+     * Sets ith "item" element
+     */
+    public void setItemArray(int i, com.easypo.Items.Item item)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEM$0, false, i))
+        {
+            generatedSetterHelperImpl(item, ITEM$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEM$0, false, i);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "item" element
+     */
+    public com.easypo.Items.Item insertNewItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.Items.Item target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEM$0, false, i))
+            {
+                target = (com.easypo.Items.Item)get_store().insert_element_user(ITEM$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEM$0, false, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "item" element
+     */
+    public com.easypo.Items.Item addNewItem()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.Items.Item target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEM$0, false, -1))
+            {
+                target = (com.easypo.Items.Item)get_store().add_element_user(ITEM$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEM$0, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "item" element
+     */
+    public void removeItem(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, ITEM$0, false, i))
+            {
+                get_store().remove_element(ITEM$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, ITEM$0, false, i);
+        }
+    }
+    /**
+     * An XML item(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+     *
+     * This is a complex type.
+     */
+    public static class ItemImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.Items.Item
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ItemImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        /**
+         * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+         */
+        public int getTotal()
+        {
+            return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+        }
+        
+        /**
+         * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+         */
+        public java.lang.String getName(java.lang.String p0)
+        {
+            return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+        }
+        
+        /**
+         * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+         */
+        public java.lang.String getName(java.lang.String p0, int p1)
+        {
+            return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+        }
+        
+        /**
+         * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+         */
+        public void setEmployeeAge(int p0)
+        {
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+        }
+        
+        private static final javax.xml.namespace.QName PRODUCTNAME$0 = 
+            new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "productName");
+        private static final javax.xml.namespace.QName QUANTITY$2 = 
+            new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "quantity");
+        private static final javax.xml.namespace.QName USPRICE$4 = 
+            new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "USPrice");
+        private static final javax.xml.namespace.QName COMMENT$6 = 
+            new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "comment");
+        private static final javax.xml.namespace.QName SHIPDATE$8 = 
+            new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "shipDate");
+        private static final javax.xml.namespace.QName PARTNUM$10 = 
+            new javax.xml.namespace.QName("", "partNum");
+        
+        
+        /**
+         * Gets the "productName" element
+         */
+        public java.lang.String getProductName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTNAME$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "productName" element
+         */
+        public org.apache.xmlbeans.XmlString xgetProductName()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTNAME$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "productName" element
+         */
+        public void setProductName(java.lang.String productName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PRODUCTNAME$0, false, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(PRODUCTNAME$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(PRODUCTNAME$0);
+                    }
+                    target.setStringValue(productName);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PRODUCTNAME$0, false, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "productName" element
+         */
+        public void xsetProductName(org.apache.xmlbeans.XmlString productName)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PRODUCTNAME$0, false, -1))
+                {
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(PRODUCTNAME$0, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(PRODUCTNAME$0);
+                    }
+                    target.set(productName);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PRODUCTNAME$0, false, -1);
+            }
+        }
+        
+        /**
+         * Gets the "quantity" element
+         */
+        public int getQuantity()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_element_chars(QUANTITY$2, 0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$2, 0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "quantity" element
+         */
+        public com.easypo.Items.Item.Quantity xgetQuantity()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.easypo.Items.Item.Quantity target = null;
+                target = (com.easypo.Items.Item.Quantity)get_store().find_element_user(QUANTITY$2, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "quantity" element
+         */
+        public void setQuantity(int quantity)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, QUANTITY$2, false, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(QUANTITY$2, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(QUANTITY$2);
+                    }
+                    target.setIntValue(quantity);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, QUANTITY$2, false, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "quantity" element
+         */
+        public void xsetQuantity(com.easypo.Items.Item.Quantity quantity)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, QUANTITY$2, false, -1))
+                {
+                    com.easypo.Items.Item.Quantity target = null;
+                    target = (com.easypo.Items.Item.Quantity)get_store().find_element_user(QUANTITY$2, 0);
+                    if (target == null)
+                    {
+                      target = (com.easypo.Items.Item.Quantity)get_store().add_element_user(QUANTITY$2);
+                    }
+                    target.set(quantity);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, QUANTITY$2, false, -1);
+            }
+        }
+        
+        /**
+         * Gets the "USPrice" element
+         */
+        public java.math.BigDecimal getUSPrice()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPRICE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getBigDecimalValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "USPrice" element
+         */
+        public org.apache.xmlbeans.XmlDecimal xgetUSPrice()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(USPRICE$4, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "USPrice" element
+         */
+        public void setUSPrice(java.math.BigDecimal usPrice)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, USPRICE$4, false, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(USPRICE$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(USPRICE$4);
+                    }
+                    target.setBigDecimalValue(usPrice);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, USPRICE$4, false, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "USPrice" element
+         */
+        public void xsetUSPrice(org.apache.xmlbeans.XmlDecimal usPrice)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, USPRICE$4, false, -1))
+                {
+                    org.apache.xmlbeans.XmlDecimal target = null;
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(USPRICE$4, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(USPRICE$4);
+                    }
+                    target.set(usPrice);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, USPRICE$4, false, -1);
+            }
+        }
+        
+        /**
+         * Gets the "comment" element
+         */
+        public java.lang.String getComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "comment" element
+         */
+        public org.apache.xmlbeans.XmlString xgetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$6, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "comment" element
+         */
+        public boolean isSetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(COMMENT$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "comment" element
+         */
+        public void setComment(java.lang.String comment)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$6, false, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$6);
+                    }
+                    target.setStringValue(comment);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$6, false, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "comment" element
+         */
+        public void xsetComment(org.apache.xmlbeans.XmlString comment)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$6, false, -1))
+                {
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$6, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$6);
+                    }
+                    target.set(comment);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$6, false, -1);
+            }
+        }
+        
+        /**
+         * Unsets the "comment" element
+         */
+        public void unsetComment()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COMMENT$6, false, -1))
+                {
+                    get_store().remove_element(COMMENT$6, 0);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COMMENT$6, false, -1);
+            }
+        }
+        
+        /**
+         * Gets the "shipDate" element
+         */
+        public java.util.Calendar getShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getCalendarValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "shipDate" element
+         */
+        public org.apache.xmlbeans.XmlDate xgetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$8, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "shipDate" element
+         */
+        public boolean isSetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(SHIPDATE$8) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "shipDate" element
+         */
+        public void setShipDate(java.util.Calendar shipDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPDATE$8, false, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SHIPDATE$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SHIPDATE$8);
+                    }
+                    target.setCalendarValue(shipDate);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPDATE$8, false, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "shipDate" element
+         */
+        public void xsetShipDate(org.apache.xmlbeans.XmlDate shipDate)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPDATE$8, false, -1))
+                {
+                    org.apache.xmlbeans.XmlDate target = null;
+                    target = (org.apache.xmlbeans.XmlDate)get_store().find_element_user(SHIPDATE$8, 0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlDate)get_store().add_element_user(SHIPDATE$8);
+                    }
+                    target.set(shipDate);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPDATE$8, false, -1);
+            }
+        }
+        
+        /**
+         * Unsets the "shipDate" element
+         */
+        public void unsetShipDate()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, SHIPDATE$8, false, -1))
+                {
+                    get_store().remove_element(SHIPDATE$8, 0);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, SHIPDATE$8, false, -1);
+            }
+        }
+        
+        /**
+         * Gets the "partNum" attribute
+         */
+        public java.lang.String getPartNum()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PARTNUM$10);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "partNum" attribute
+         */
+        public com.easypo.SKU xgetPartNum()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                com.easypo.SKU target = null;
+                target = (com.easypo.SKU)get_store().find_attribute_user(PARTNUM$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "partNum" attribute
+         */
+        public void setPartNum(java.lang.String partNum)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PARTNUM$10, true, -1))
+                {
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(PARTNUM$10);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(PARTNUM$10);
+                    }
+                    target.setStringValue(partNum);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PARTNUM$10, true, -1);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "partNum" attribute
+         */
+        public void xsetPartNum(com.easypo.SKU partNum)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PARTNUM$10, true, -1))
+                {
+                    com.easypo.SKU target = null;
+                    target = (com.easypo.SKU)get_store().find_attribute_user(PARTNUM$10);
+                    if (target == null)
+                    {
+                      target = (com.easypo.SKU)get_store().add_attribute_user(PARTNUM$10);
+                    }
+                    target.set(partNum);
+                }
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PARTNUM$10, true, -1);
+            }
+        }
+        /**
+         * An XML quantity(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+         *
+         * This is an atomic type that is a restriction of com.easypo.Items$Item$Quantity.
+         */
+        public static class QuantityImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements com.easypo.Items.Item.Quantity
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public QuantityImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected QuantityImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+            
+            /**
+             * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+             */
+            public int getTotal()
+            {
+                return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+            }
+            
+            /**
+             * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+             */
+            public java.lang.String getName(java.lang.String p0)
+            {
+                return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+            }
+            
+            /**
+             * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+             */
+            public java.lang.String getName(java.lang.String p0, int p1)
+            {
+                return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+            }
+            
+            /**
+             * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+             */
+            public void setEmployeeAge(int p0)
+            {
+                xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * An XML document type.
+ * Localname: purchaseOrder
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.PurchaseOrderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * A document containing one purchaseOrder(@http://xbean.interface_feature/averageCase/PurchaseOrder) element.
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.PurchaseOrderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName PURCHASEORDER$0 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "purchaseOrder");
+    
+    
+    /**
+     * Gets the "purchaseOrder" element
+     */
+    public com.easypo.PurchaseOrderType getPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.PurchaseOrderType target = null;
+            target = (com.easypo.PurchaseOrderType)get_store().find_element_user(PURCHASEORDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "purchaseOrder" element
+     */
+    public void setPurchaseOrder(com.easypo.PurchaseOrderType purchaseOrder)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PURCHASEORDER$0, false, -1))
+        {
+            generatedSetterHelperImpl(purchaseOrder, PURCHASEORDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, PURCHASEORDER$0, false, -1);
+    }
+    
+    /**
+     * Appends and returns a new empty "purchaseOrder" element
+     */
+    public com.easypo.PurchaseOrderType addNewPurchaseOrder()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.PurchaseOrderType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, PURCHASEORDER$0, false, -1))
+            {
+                target = (com.easypo.PurchaseOrderType)get_store().add_element_user(PURCHASEORDER$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, PURCHASEORDER$0, false, -1);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * XML Type:  PurchaseOrderType
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.PurchaseOrderType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * An XML PurchaseOrderType(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class PurchaseOrderTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.PurchaseOrderType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PurchaseOrderTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName SHIPTO$0 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "shipTo");
+    private static final javax.xml.namespace.QName BILLTO$2 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "billTo");
+    private static final javax.xml.namespace.QName COMMENT$4 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "comment");
+    private static final javax.xml.namespace.QName ITEMS$6 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "items");
+    private static final javax.xml.namespace.QName ORDERDATE$8 = 
+        new javax.xml.namespace.QName("", "orderDate");
+    
+    
+    /**
+     * Gets the "shipTo" element
+     */
+    public com.easypo.USAddress getShipTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.USAddress target = null;
+            target = (com.easypo.USAddress)get_store().find_element_user(SHIPTO$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "shipTo" element
+     */
+    public void setShipTo(com.easypo.USAddress shipTo)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPTO$0, false, -1))
+        {
+            generatedSetterHelperImpl(shipTo, SHIPTO$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, SHIPTO$0, false, -1);
+    }
+    
+    /**
+     * Appends and returns a new empty "shipTo" element
+     */
+    public com.easypo.USAddress addNewShipTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.USAddress target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, SHIPTO$0, false, -1))
+            {
+                target = (com.easypo.USAddress)get_store().add_element_user(SHIPTO$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, SHIPTO$0, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "billTo" element
+     */
+    public com.easypo.USAddress getBillTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.USAddress target = null;
+            target = (com.easypo.USAddress)get_store().find_element_user(BILLTO$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "billTo" element
+     */
+    public void setBillTo(com.easypo.USAddress billTo)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, BILLTO$2, false, -1))
+        {
+            generatedSetterHelperImpl(billTo, BILLTO$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, BILLTO$2, false, -1);
+    }
+    
+    /**
+     * Appends and returns a new empty "billTo" element
+     */
+    public com.easypo.USAddress addNewBillTo()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.USAddress target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, BILLTO$2, false, -1))
+            {
+                target = (com.easypo.USAddress)get_store().add_element_user(BILLTO$2);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, BILLTO$2, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "comment" element
+     */
+    public java.lang.String getComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "comment" element
+     */
+    public org.apache.xmlbeans.XmlString xgetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "comment" element
+     */
+    public boolean isSetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(COMMENT$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "comment" element
+     */
+    public void setComment(java.lang.String comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$4, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(COMMENT$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(COMMENT$4);
+                }
+                target.setStringValue(comment);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$4, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "comment" element
+     */
+    public void xsetComment(org.apache.xmlbeans.XmlString comment)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$4, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(COMMENT$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(COMMENT$4);
+                }
+                target.set(comment);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COMMENT$4, false, -1);
+        }
+    }
+    
+    /**
+     * Unsets the "comment" element
+     */
+    public void unsetComment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COMMENT$4, false, -1))
+            {
+                get_store().remove_element(COMMENT$4, 0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COMMENT$4, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "items" element
+     */
+    public com.easypo.Items getItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.Items target = null;
+            target = (com.easypo.Items)get_store().find_element_user(ITEMS$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "items" element
+     */
+    public void setItems(com.easypo.Items items)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEMS$6, false, -1))
+        {
+            generatedSetterHelperImpl(items, ITEMS$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ITEMS$6, false, -1);
+    }
+    
+    /**
+     * Appends and returns a new empty "items" element
+     */
+    public com.easypo.Items addNewItems()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.easypo.Items target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEMS$6, false, -1))
+            {
+                target = (com.easypo.Items)get_store().add_element_user(ITEMS$6);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, ITEMS$6, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "orderDate" attribute
+     */
+    public java.util.Calendar getOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ORDERDATE$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getCalendarValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "orderDate" attribute
+     */
+    public org.apache.xmlbeans.XmlDate xgetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDate target = null;
+            target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ORDERDATE$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "orderDate" attribute
+     */
+    public boolean isSetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(ORDERDATE$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "orderDate" attribute
+     */
+    public void setOrderDate(java.util.Calendar orderDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ORDERDATE$8, true, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(ORDERDATE$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(ORDERDATE$8);
+                }
+                target.setCalendarValue(orderDate);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ORDERDATE$8, true, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "orderDate" attribute
+     */
+    public void xsetOrderDate(org.apache.xmlbeans.XmlDate orderDate)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ORDERDATE$8, true, -1))
+            {
+                org.apache.xmlbeans.XmlDate target = null;
+                target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(ORDERDATE$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(ORDERDATE$8);
+                }
+                target.set(orderDate);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ORDERDATE$8, true, -1);
+        }
+    }
+    
+    /**
+     * Unsets the "orderDate" attribute
+     */
+    public void unsetOrderDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, ORDERDATE$8, true, -1))
+            {
+                get_store().remove_attribute(ORDERDATE$8);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, ORDERDATE$8, true, -1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * XML Type:  SKU
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.SKU
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * An XML SKU(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is an atomic type that is a restriction of com.easypo.SKU.
+ */
+public class SKUImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.easypo.SKU
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SKUImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected SKUImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+}
@@ -0,0 +1,597 @@
+/*
+ * XML Type:  USAddress
+ * Namespace: http://xbean.interface_feature/averageCase/PurchaseOrder
+ * Java type: com.easypo.USAddress
+ *
+ * Automatically generated - do not modify.
+ */
+package com.easypo.impl;
+/**
+ * An XML USAddress(@http://xbean.interface_feature/averageCase/PurchaseOrder).
+ *
+ * This is a complex type.
+ */
+public class USAddressImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.easypo.USAddress
+{
+    private static final long serialVersionUID = 1L;
+    
+    public USAddressImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName NAME2$0 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "name");
+    private static final javax.xml.namespace.QName STREET$2 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "street");
+    private static final javax.xml.namespace.QName CITY$4 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "city");
+    private static final javax.xml.namespace.QName STATE$6 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "state");
+    private static final javax.xml.namespace.QName ZIP$8 = 
+        new javax.xml.namespace.QName("http://xbean.interface_feature/averageCase/PurchaseOrder", "zip");
+    private static final javax.xml.namespace.QName COUNTRY$10 = 
+        new javax.xml.namespace.QName("", "country");
+    
+    
+    /**
+     * Gets the "name" element
+     */
+    public java.lang.String getName2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME2$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "name" element
+     */
+    public org.apache.xmlbeans.XmlString xgetName2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME2$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "name" element
+     */
+    public boolean isNilName2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME2$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "name" element
+     */
+    public void setName2(java.lang.String name2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(NAME2$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(NAME2$0);
+                }
+                target.setStringValue(name2);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "name" element
+     */
+    public void xsetName2(org.apache.xmlbeans.XmlString name2)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME2$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME2$0);
+                }
+                target.set(name2);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1);
+        }
+    }
+    
+    /**
+     * Nils the "name" element
+     */
+    public void setNilName2()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(NAME2$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(NAME2$0);
+                }
+                target.setNil();
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, NAME2$0, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "street" element
+     */
+    public java.lang.String getStreet()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STREET$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "street" element
+     */
+    public org.apache.xmlbeans.XmlString xgetStreet()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STREET$2, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "street" element
+     */
+    public void setStreet(java.lang.String street)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STREET$2, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STREET$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STREET$2);
+                }
+                target.setStringValue(street);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STREET$2, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "street" element
+     */
+    public void xsetStreet(org.apache.xmlbeans.XmlString street)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STREET$2, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STREET$2, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STREET$2);
+                }
+                target.set(street);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STREET$2, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "city" element
+     */
+    public java.lang.String getCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "city" element
+     */
+    public org.apache.xmlbeans.XmlString xgetCity()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$4, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "city" element
+     */
+    public void setCity(java.lang.String city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CITY$4, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(CITY$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(CITY$4);
+                }
+                target.setStringValue(city);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CITY$4, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "city" element
+     */
+    public void xsetCity(org.apache.xmlbeans.XmlString city)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CITY$4, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(CITY$4, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(CITY$4);
+                }
+                target.set(city);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CITY$4, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "state" element
+     */
+    public java.lang.String getState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATE$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "state" element
+     */
+    public org.apache.xmlbeans.XmlString xgetState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATE$6, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "state" element
+     */
+    public void setState(java.lang.String state)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STATE$6, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(STATE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(STATE$6);
+                }
+                target.setStringValue(state);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STATE$6, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "state" element
+     */
+    public void xsetState(org.apache.xmlbeans.XmlString state)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STATE$6, false, -1))
+            {
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(STATE$6, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(STATE$6);
+                }
+                target.set(state);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, STATE$6, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "zip" element
+     */
+    public java.math.BigDecimal getZip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ZIP$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigDecimalValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "zip" element
+     */
+    public org.apache.xmlbeans.XmlDecimal xgetZip()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlDecimal target = null;
+            target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(ZIP$8, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "zip" element
+     */
+    public void setZip(java.math.BigDecimal zip)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ZIP$8, false, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(ZIP$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(ZIP$8);
+                }
+                target.setBigDecimalValue(zip);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ZIP$8, false, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "zip" element
+     */
+    public void xsetZip(org.apache.xmlbeans.XmlDecimal zip)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ZIP$8, false, -1))
+            {
+                org.apache.xmlbeans.XmlDecimal target = null;
+                target = (org.apache.xmlbeans.XmlDecimal)get_store().find_element_user(ZIP$8, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlDecimal)get_store().add_element_user(ZIP$8);
+                }
+                target.set(zip);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, ZIP$8, false, -1);
+        }
+    }
+    
+    /**
+     * Gets the "country" attribute
+     */
+    public java.lang.String getCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(COUNTRY$10);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "country" attribute
+     */
+    public org.apache.xmlbeans.XmlNMTOKEN xgetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNMTOKEN target = null;
+            target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().find_attribute_user(COUNTRY$10);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNMTOKEN)get_default_attribute_value(COUNTRY$10);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "country" attribute
+     */
+    public boolean isSetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(COUNTRY$10) != null;
+        }
+    }
+    
+    /**
+     * Sets the "country" attribute
+     */
+    public void setCountry(java.lang.String country)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COUNTRY$10, true, -1))
+            {
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(COUNTRY$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(COUNTRY$10);
+                }
+                target.setStringValue(country);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COUNTRY$10, true, -1);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "country" attribute
+     */
+    public void xsetCountry(org.apache.xmlbeans.XmlNMTOKEN country)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COUNTRY$10, true, -1))
+            {
+                org.apache.xmlbeans.XmlNMTOKEN target = null;
+                target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().find_attribute_user(COUNTRY$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlNMTOKEN)get_store().add_attribute_user(COUNTRY$10);
+                }
+                target.set(country);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, COUNTRY$10, true, -1);
+        }
+    }
+    
+    /**
+     * Unsets the "country" attribute
+     */
+    public void unsetCountry()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COUNTRY$10, true, -1))
+            {
+                get_store().remove_attribute(COUNTRY$10);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, COUNTRY$10, true, -1);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * XML Type:  age
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.Age
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company;
+
+
+/**
+ * An XML age(@http://xbean.prePostFeature/ValueRestriction/company).
+ *
+ * This is an atomic type that is a restriction of prePostFeature.xbean.valueRestriction.company.Age.
+ */
+public interface Age extends org.apache.xmlbeans.XmlInteger, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+{
+    int getIntValue();
+    void setIntValue(int i);
+    /** @deprecated */
+    int intValue();
+    /** @deprecated */
+    void set(int i);
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Age.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("agefa97type");
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static prePostFeature.xbean.valueRestriction.company.Age newValue(java.lang.Object obj) {
+          return (prePostFeature.xbean.valueRestriction.company.Age) type.newValue( obj ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age newInstance() {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.Age parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.Age) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * XML Type:  ConsultantType
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.ConsultantType
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company;
+
+
+/**
+ * An XML ConsultantType(@http://xbean.prePostFeature/ValueRestriction/company).
+ *
+ * This is a complex type.
+ */
+public interface ConsultantType extends org.apache.xmlbeans.XmlObject, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ConsultantType.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("consultanttypeae6ftype");
+    
+    /**
+     * Gets the "name" attribute
+     */
+    java.lang.String getName2();
+    
+    /**
+     * Gets (as xml) the "name" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetName2();
+    
+    /**
+     * True if has "name" attribute
+     */
+    boolean isSetName2();
+    
+    /**
+     * Sets the "name" attribute
+     */
+    void setName2(java.lang.String name2);
+    
+    /**
+     * Sets (as xml) the "name" attribute
+     */
+    void xsetName2(org.apache.xmlbeans.XmlString name2);
+    
+    /**
+     * Unsets the "name" attribute
+     */
+    void unsetName2();
+    
+    /**
+     * Gets the "age" attribute
+     */
+    int getAge();
+    
+    /**
+     * Gets (as xml) the "age" attribute
+     */
+    prePostFeature.xbean.valueRestriction.company.Age xgetAge();
+    
+    /**
+     * True if has "age" attribute
+     */
+    boolean isSetAge();
+    
+    /**
+     * Sets the "age" attribute
+     */
+    void setAge(int age);
+    
+    /**
+     * Sets (as xml) the "age" attribute
+     */
+    void xsetAge(prePostFeature.xbean.valueRestriction.company.Age age);
+    
+    /**
+     * Unsets the "age" attribute
+     */
+    void unsetAge();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType newInstance() {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.ConsultantType parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.ConsultantType) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * An XML document type.
+ * Localname: department
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.DepartmentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company;
+
+
+/**
+ * A document containing one department(@http://xbean.prePostFeature/ValueRestriction/company) element.
+ *
+ * This is a complex type.
+ */
+public interface DepartmentDocument extends org.apache.xmlbeans.XmlObject, xmlobject.extensions.interfaceFeature.averageCase.existing.IFoo, xmlobject.extensions.prePostFeature.ValueRestriction.existing.ISetter
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DepartmentDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.apiCompile").resolveHandle("department8f22doctype");
+    
+    /**
+     * Gets the "department" element
+     */
+    prePostFeature.xbean.valueRestriction.company.DepartmentType getDepartment();
+    
+    /**
+     * Sets the "department" element
+     */
+    void setDepartment(prePostFeature.xbean.valueRestriction.company.DepartmentType department);
+    
+    /**
+     * Appends and returns a new empty "department" element
+     */
+    prePostFeature.xbean.valueRestriction.company.DepartmentType addNewDepartment();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument newInstance() {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static prePostFeature.xbean.valueRestriction.company.DepartmentDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (prePostFeature.xbean.valueRestriction.company.DepartmentDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * XML Type:  CompanyType
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.CompanyType
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company.impl;
+/**
+ * An XML CompanyType(@http://xbean.prePostFeature/ValueRestriction/company).
+ *
+ * This is a complex type.
+ */
+public class CompanyTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements prePostFeature.xbean.valueRestriction.company.CompanyType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public CompanyTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENTS$0 = 
+        new javax.xml.namespace.QName("", "departments");
+    
+    
+    /**
+     * Gets array of all "departments" elements
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType[] getDepartmentsArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEPARTMENTS$0, targetList);
+            prePostFeature.xbean.valueRestriction.company.DepartmentType[] result = new prePostFeature.xbean.valueRestriction.company.DepartmentType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "departments" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType getDepartmentsArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.DepartmentType target = null;
+            target = (prePostFeature.xbean.valueRestriction.company.DepartmentType)get_store().find_element_user(DEPARTMENTS$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "departments" element
+     */
+    public int sizeOfDepartmentsArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEPARTMENTS$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "departments" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDepartmentsArray(prePostFeature.xbean.valueRestriction.company.DepartmentType[] departmentsArray)
+    {
+        check_orphaned();
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENTS$0, false, -1))
+        {
+            arraySetterHelper(departmentsArray, DEPARTMENTS$0);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENTS$0, false, -1);
+    }
+    
+    /**
+     * Sets ith "departments" element
+     */
+    public void setDepartmentsArray(int i, prePostFeature.xbean.valueRestriction.company.DepartmentType departments)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENTS$0, false, i))
+        {
+            generatedSetterHelperImpl(departments, DEPARTMENTS$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENTS$0, false, i);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "departments" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType insertNewDepartments(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.DepartmentType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENTS$0, false, i))
+            {
+                target = (prePostFeature.xbean.valueRestriction.company.DepartmentType)get_store().insert_element_user(DEPARTMENTS$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENTS$0, false, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "departments" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType addNewDepartments()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.DepartmentType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENTS$0, false, -1))
+            {
+                target = (prePostFeature.xbean.valueRestriction.company.DepartmentType)get_store().add_element_user(DEPARTMENTS$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENTS$0, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "departments" element
+     */
+    public void removeDepartments(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, DEPARTMENTS$0, false, i))
+            {
+                get_store().remove_element(DEPARTMENTS$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, DEPARTMENTS$0, false, i);
+        }
+    }
+}
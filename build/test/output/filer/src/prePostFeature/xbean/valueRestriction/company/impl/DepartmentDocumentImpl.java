@@ -0,0 +1,107 @@
+/*
+ * An XML document type.
+ * Localname: department
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.DepartmentDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company.impl;
+/**
+ * A document containing one department(@http://xbean.prePostFeature/ValueRestriction/company) element.
+ *
+ * This is a complex type.
+ */
+public class DepartmentDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements prePostFeature.xbean.valueRestriction.company.DepartmentDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DepartmentDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName DEPARTMENT$0 = 
+        new javax.xml.namespace.QName("http://xbean.prePostFeature/ValueRestriction/company", "department");
+    
+    
+    /**
+     * Gets the "department" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType getDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.DepartmentType target = null;
+            target = (prePostFeature.xbean.valueRestriction.company.DepartmentType)get_store().find_element_user(DEPARTMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "department" element
+     */
+    public void setDepartment(prePostFeature.xbean.valueRestriction.company.DepartmentType department)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENT$0, false, -1))
+        {
+            generatedSetterHelperImpl(department, DEPARTMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, DEPARTMENT$0, false, -1);
+    }
+    
+    /**
+     * Appends and returns a new empty "department" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.DepartmentType addNewDepartment()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.DepartmentType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENT$0, false, -1))
+            {
+                target = (prePostFeature.xbean.valueRestriction.company.DepartmentType)get_store().add_element_user(DEPARTMENT$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, DEPARTMENT$0, false, -1);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * XML Type:  DepartmentType
+ * Namespace: http://xbean.prePostFeature/ValueRestriction/company
+ * Java type: prePostFeature.xbean.valueRestriction.company.DepartmentType
+ *
+ * Automatically generated - do not modify.
+ */
+package prePostFeature.xbean.valueRestriction.company.impl;
+/**
+ * An XML DepartmentType(@http://xbean.prePostFeature/ValueRestriction/company).
+ *
+ * This is a complex type.
+ */
+public class DepartmentTypeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements prePostFeature.xbean.valueRestriction.company.DepartmentType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DepartmentTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public int getTotal()
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getTotal(this);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler
+     */
+    public java.lang.String getName(java.lang.String p0, int p1)
+    {
+        return xmlobject.extensions.interfaceFeature.averageCase.existing.FooHandler.getName(this, p0, p1);
+    }
+    
+    /**
+     * Implementation method for interface xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler
+     */
+    public void setEmployeeAge(int p0)
+    {
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.setEmployeeAge(this, p0);
+    }
+    
+    private static final javax.xml.namespace.QName CONSULTANT$0 = 
+        new javax.xml.namespace.QName("", "consultant");
+    
+    
+    /**
+     * Gets array of all "consultant" elements
+     */
+    public prePostFeature.xbean.valueRestriction.company.ConsultantType[] getConsultantArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CONSULTANT$0, targetList);
+            prePostFeature.xbean.valueRestriction.company.ConsultantType[] result = new prePostFeature.xbean.valueRestriction.company.ConsultantType[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "consultant" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.ConsultantType getConsultantArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.ConsultantType target = null;
+            target = (prePostFeature.xbean.valueRestriction.company.ConsultantType)get_store().find_element_user(CONSULTANT$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "consultant" element
+     */
+    public int sizeOfConsultantArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CONSULTANT$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "consultant" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setConsultantArray(prePostFeature.xbean.valueRestriction.company.ConsultantType[] consultantArray)
+    {
+        check_orphaned();
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CONSULTANT$0, false, -1))
+        {
+            arraySetterHelper(consultantArray, CONSULTANT$0);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CONSULTANT$0, false, -1);
+    }
+    
+    /**
+     * Sets ith "consultant" element
+     */
+    public void setConsultantArray(int i, prePostFeature.xbean.valueRestriction.company.ConsultantType consultant)
+    {
+        if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CONSULTANT$0, false, i))
+        {
+            generatedSetterHelperImpl(consultant, CONSULTANT$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_SET, this, CONSULTANT$0, false, i);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "consultant" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.ConsultantType insertNewConsultant(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.ConsultantType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, CONSULTANT$0, false, i))
+            {
+                target = (prePostFeature.xbean.valueRestriction.company.ConsultantType)get_store().insert_element_user(CONSULTANT$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, CONSULTANT$0, false, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "consultant" element
+     */
+    public prePostFeature.xbean.valueRestriction.company.ConsultantType addNewConsultant()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            prePostFeature.xbean.valueRestriction.company.ConsultantType target = null;
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, CONSULTANT$0, false, -1))
+            {
+                target = (prePostFeature.xbean.valueRestriction.company.ConsultantType)get_store().add_element_user(CONSULTANT$0);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_INSERT, this, CONSULTANT$0, false, -1);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "consultant" element
+     */
+    public void removeConsultant(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            if ( xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.preSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, CONSULTANT$0, false, i))
+            {
+                get_store().remove_element(CONSULTANT$0, i);
+            }
+            xmlobject.extensions.prePostFeature.ValueRestriction.existing.SetterHandler.postSet(org.apache.xmlbeans.PrePostExtension.OPERATION_REMOVE, this, CONSULTANT$0, false, i);
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * XML Type:  addr_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.AddrTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML addr_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface AddrTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(AddrTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("addrtype41btype");
+    
+    /**
+     * Gets array of all "STR" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getSTRArray();
+    
+    /**
+     * Gets ith "STR" element
+     */
+    ehd.vdx.x001.VStringTyp getSTRArray(int i);
+    
+    /**
+     * Returns number of "STR" element
+     */
+    int sizeOfSTRArray();
+    
+    /**
+     * Sets array of all "STR" element
+     */
+    void setSTRArray(ehd.vdx.x001.VStringTyp[] strArray);
+    
+    /**
+     * Sets ith "STR" element
+     */
+    void setSTRArray(int i, ehd.vdx.x001.VStringTyp str);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "STR" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewSTR(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "STR" element
+     */
+    ehd.vdx.x001.VStringTyp addNewSTR();
+    
+    /**
+     * Removes the ith "STR" element
+     */
+    void removeSTR(int i);
+    
+    /**
+     * Gets array of all "HNR" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getHNRArray();
+    
+    /**
+     * Gets ith "HNR" element
+     */
+    ehd.vdx.x001.VStringTyp getHNRArray(int i);
+    
+    /**
+     * Returns number of "HNR" element
+     */
+    int sizeOfHNRArray();
+    
+    /**
+     * Sets array of all "HNR" element
+     */
+    void setHNRArray(ehd.vdx.x001.VStringTyp[] hnrArray);
+    
+    /**
+     * Sets ith "HNR" element
+     */
+    void setHNRArray(int i, ehd.vdx.x001.VStringTyp hnr);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "HNR" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewHNR(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "HNR" element
+     */
+    ehd.vdx.x001.VStringTyp addNewHNR();
+    
+    /**
+     * Removes the ith "HNR" element
+     */
+    void removeHNR(int i);
+    
+    /**
+     * Gets array of all "POB" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getPOBArray();
+    
+    /**
+     * Gets ith "POB" element
+     */
+    ehd.vdx.x001.VStringTyp getPOBArray(int i);
+    
+    /**
+     * Returns number of "POB" element
+     */
+    int sizeOfPOBArray();
+    
+    /**
+     * Sets array of all "POB" element
+     */
+    void setPOBArray(ehd.vdx.x001.VStringTyp[] pobArray);
+    
+    /**
+     * Sets ith "POB" element
+     */
+    void setPOBArray(int i, ehd.vdx.x001.VStringTyp pob);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "POB" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewPOB(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "POB" element
+     */
+    ehd.vdx.x001.VStringTyp addNewPOB();
+    
+    /**
+     * Removes the ith "POB" element
+     */
+    void removePOB(int i);
+    
+    /**
+     * Gets array of all "ZIP" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getZIPArray();
+    
+    /**
+     * Gets ith "ZIP" element
+     */
+    ehd.vdx.x001.VStringTyp getZIPArray(int i);
+    
+    /**
+     * Returns number of "ZIP" element
+     */
+    int sizeOfZIPArray();
+    
+    /**
+     * Sets array of all "ZIP" element
+     */
+    void setZIPArray(ehd.vdx.x001.VStringTyp[] zipArray);
+    
+    /**
+     * Sets ith "ZIP" element
+     */
+    void setZIPArray(int i, ehd.vdx.x001.VStringTyp zip);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ZIP" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewZIP(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ZIP" element
+     */
+    ehd.vdx.x001.VStringTyp addNewZIP();
+    
+    /**
+     * Removes the ith "ZIP" element
+     */
+    void removeZIP(int i);
+    
+    /**
+     * Gets array of all "CTY" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getCTYArray();
+    
+    /**
+     * Gets ith "CTY" element
+     */
+    ehd.vdx.x001.VStringTyp getCTYArray(int i);
+    
+    /**
+     * Returns number of "CTY" element
+     */
+    int sizeOfCTYArray();
+    
+    /**
+     * Sets array of all "CTY" element
+     */
+    void setCTYArray(ehd.vdx.x001.VStringTyp[] ctyArray);
+    
+    /**
+     * Sets ith "CTY" element
+     */
+    void setCTYArray(int i, ehd.vdx.x001.VStringTyp cty);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "CTY" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewCTY(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "CTY" element
+     */
+    ehd.vdx.x001.VStringTyp addNewCTY();
+    
+    /**
+     * Removes the ith "CTY" element
+     */
+    void removeCTY(int i);
+    
+    /**
+     * Gets array of all "STA" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getSTAArray();
+    
+    /**
+     * Gets ith "STA" element
+     */
+    ehd.vdx.x001.VStringTyp getSTAArray(int i);
+    
+    /**
+     * Returns number of "STA" element
+     */
+    int sizeOfSTAArray();
+    
+    /**
+     * Sets array of all "STA" element
+     */
+    void setSTAArray(ehd.vdx.x001.VStringTyp[] staArray);
+    
+    /**
+     * Sets ith "STA" element
+     */
+    void setSTAArray(int i, ehd.vdx.x001.VStringTyp sta);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "STA" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewSTA(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "STA" element
+     */
+    ehd.vdx.x001.VStringTyp addNewSTA();
+    
+    /**
+     * Removes the ith "STA" element
+     */
+    void removeSTA(int i);
+    
+    /**
+     * Gets array of all "CNT" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getCNTArray();
+    
+    /**
+     * Gets ith "CNT" element
+     */
+    ehd.vdx.x001.VStringTyp getCNTArray(int i);
+    
+    /**
+     * Returns number of "CNT" element
+     */
+    int sizeOfCNTArray();
+    
+    /**
+     * Sets array of all "CNT" element
+     */
+    void setCNTArray(ehd.vdx.x001.VStringTyp[] cntArray);
+    
+    /**
+     * Sets ith "CNT" element
+     */
+    void setCNTArray(int i, ehd.vdx.x001.VStringTyp cnt);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "CNT" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewCNT(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "CNT" element
+     */
+    ehd.vdx.x001.VStringTyp addNewCNT();
+    
+    /**
+     * Removes the ith "CNT" element
+     */
+    void removeCNT(int i);
+    
+    /**
+     * Gets array of all "ADL" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getADLArray();
+    
+    /**
+     * Gets ith "ADL" element
+     */
+    ehd.vdx.x001.VStringTyp getADLArray(int i);
+    
+    /**
+     * Returns number of "ADL" element
+     */
+    int sizeOfADLArray();
+    
+    /**
+     * Sets array of all "ADL" element
+     */
+    void setADLArray(ehd.vdx.x001.VStringTyp[] adlArray);
+    
+    /**
+     * Sets ith "ADL" element
+     */
+    void setADLArray(int i, ehd.vdx.x001.VStringTyp adl);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ADL" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewADL(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ADL" element
+     */
+    ehd.vdx.x001.VStringTyp addNewADL();
+    
+    /**
+     * Removes the ith "ADL" element
+     */
+    void removeADL(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.AddrTyp newInstance() {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.AddrTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.AddrTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.AddrTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.AddrTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.AddrTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.AddrTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
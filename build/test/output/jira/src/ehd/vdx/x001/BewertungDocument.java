@@ -0,0 +1,325 @@
+/*
+ * An XML document type.
+ * Localname: bewertung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.BewertungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * A document containing one bewertung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public interface BewertungDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BewertungDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("bewertungc8d7doctype");
+    
+    /**
+     * Gets the "bewertung" element
+     */
+    ehd.vdx.x001.BewertungDocument.Bewertung getBewertung();
+    
+    /**
+     * Sets the "bewertung" element
+     */
+    void setBewertung(ehd.vdx.x001.BewertungDocument.Bewertung bewertung);
+    
+    /**
+     * Appends and returns a new empty "bewertung" element
+     */
+    ehd.vdx.x001.BewertungDocument.Bewertung addNewBewertung();
+    
+    /**
+     * An XML bewertung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Bewertung extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Bewertung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("bewertunge67eelemtype");
+        
+        /**
+         * Gets the "V" attribute
+         */
+        int getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        ehd.vdx.x001.BewertungDocument.Bewertung.V xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(int v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(ehd.vdx.x001.BewertungDocument.Bewertung.V v);
+        
+        /**
+         * Gets the "U" attribute
+         */
+        ehd.vdx.x001.BewertungDocument.Bewertung.U.Enum getU();
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        ehd.vdx.x001.BewertungDocument.Bewertung.U xgetU();
+        
+        /**
+         * Sets the "U" attribute
+         */
+        void setU(ehd.vdx.x001.BewertungDocument.Bewertung.U.Enum u);
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        void xsetU(ehd.vdx.x001.BewertungDocument.Bewertung.U u);
+        
+        /**
+         * Gets the "DN" attribute
+         */
+        int getDN();
+        
+        /**
+         * Gets (as xml) the "DN" attribute
+         */
+        org.apache.xmlbeans.XmlInt xgetDN();
+        
+        /**
+         * True if has "DN" attribute
+         */
+        boolean isSetDN();
+        
+        /**
+         * Sets the "DN" attribute
+         */
+        void setDN(int dn);
+        
+        /**
+         * Sets (as xml) the "DN" attribute
+         */
+        void xsetDN(org.apache.xmlbeans.XmlInt dn);
+        
+        /**
+         * Unsets the "DN" attribute
+         */
+        void unsetDN();
+        
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.BewertungDocument$Bewertung$V.
+         */
+        public interface V extends org.apache.xmlbeans.XmlInt
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vcc3cattrtype");
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.V newValue(java.lang.Object obj) {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.V) type.newValue( obj ); }
+                
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.V newInstance() {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.BewertungDocument$Bewertung$U.
+         */
+        public interface U extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(U.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("ua13battrtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum X_1 = Enum.forString("1");
+            static final Enum X_2 = Enum.forString("2");
+            
+            static final int INT_X_1 = Enum.INT_X_1;
+            static final int INT_X_2 = Enum.INT_X_2;
+            
+            /**
+             * Enumeration value class for ehd.vdx.x001.BewertungDocument$Bewertung$U.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_X_1
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_X_1 = 1;
+                static final int INT_X_2 = 2;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("1", INT_X_1),
+                      new Enum("2", INT_X_2),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.U newValue(java.lang.Object obj) {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.U) type.newValue( obj ); }
+                
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.U newInstance() {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.BewertungDocument.Bewertung.U newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.BewertungDocument.Bewertung.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.BewertungDocument.Bewertung newInstance() {
+              return (ehd.vdx.x001.BewertungDocument.Bewertung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.BewertungDocument.Bewertung newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.BewertungDocument.Bewertung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.BewertungDocument newInstance() {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.BewertungDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.BewertungDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.BewertungDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.BewertungDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.BewertungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * An XML document type.
+ * Localname: budget_kennung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.BudgetKennungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * A document containing one budget_kennung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public interface BudgetKennungDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BudgetKennungDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("budgetkennungc748doctype");
+    
+    /**
+     * Gets the "budget_kennung" element
+     */
+    ehd.vdx.x001.BudgetKennungDocument.BudgetKennung getBudgetKennung();
+    
+    /**
+     * Sets the "budget_kennung" element
+     */
+    void setBudgetKennung(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung budgetKennung);
+    
+    /**
+     * Appends and returns a new empty "budget_kennung" element
+     */
+    ehd.vdx.x001.BudgetKennungDocument.BudgetKennung addNewBudgetKennung();
+    
+    /**
+     * An XML budget_kennung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface BudgetKennung extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(BudgetKennung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("budgetkennungdc52elemtype");
+        
+        /**
+         * Gets the "V" attribute
+         */
+        java.lang.String getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(java.lang.String v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V v);
+        
+        /**
+         * Gets the "S" attribute
+         */
+        java.lang.String getS();
+        
+        /**
+         * Gets (as xml) the "S" attribute
+         */
+        org.apache.xmlbeans.XmlString xgetS();
+        
+        /**
+         * True if has "S" attribute
+         */
+        boolean isSetS();
+        
+        /**
+         * Sets the "S" attribute
+         */
+        void setS(java.lang.String s);
+        
+        /**
+         * Sets (as xml) the "S" attribute
+         */
+        void xsetS(org.apache.xmlbeans.XmlString s);
+        
+        /**
+         * Unsets the "S" attribute
+         */
+        void unsetS();
+        
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.BudgetKennungDocument$BudgetKennung$V.
+         */
+        public interface V extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v2c90attrtype");
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V newValue(java.lang.Object obj) {
+                  return (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V) type.newValue( obj ); }
+                
+                public static ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V newInstance() {
+                  return (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.BudgetKennungDocument.BudgetKennung newInstance() {
+              return (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.BudgetKennungDocument.BudgetKennung newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.BudgetKennungDocument newInstance() {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.BudgetKennungDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.BudgetKennungDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.BudgetKennungDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.BudgetKennungDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
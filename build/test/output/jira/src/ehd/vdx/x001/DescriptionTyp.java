@@ -0,0 +1,146 @@
+/*
+ * XML Type:  description_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DescriptionTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML description_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface DescriptionTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DescriptionTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("descriptiontypa1b4type");
+    
+    /**
+     * Gets the "V" attribute
+     */
+    java.lang.String getV();
+    
+    /**
+     * Gets (as xml) the "V" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetV();
+    
+    /**
+     * Sets the "V" attribute
+     */
+    void setV(java.lang.String v);
+    
+    /**
+     * Sets (as xml) the "V" attribute
+     */
+    void xsetV(org.apache.xmlbeans.XmlString v);
+    
+    /**
+     * Gets the "URL" attribute
+     */
+    java.lang.String getURL();
+    
+    /**
+     * Gets (as xml) the "URL" attribute
+     */
+    org.apache.xmlbeans.XmlAnyURI xgetURL();
+    
+    /**
+     * True if has "URL" attribute
+     */
+    boolean isSetURL();
+    
+    /**
+     * Sets the "URL" attribute
+     */
+    void setURL(java.lang.String url);
+    
+    /**
+     * Sets (as xml) the "URL" attribute
+     */
+    void xsetURL(org.apache.xmlbeans.XmlAnyURI url);
+    
+    /**
+     * Unsets the "URL" attribute
+     */
+    void unsetURL();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.DescriptionTyp newInstance() {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.DescriptionTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.DescriptionTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DescriptionTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DescriptionTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DescriptionTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,765 @@
+/*
+ * XML Type:  diagnose_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DiagnoseListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML diagnose_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface DiagnoseListeTyp extends ehd.vdx.x001.ListeIdTyp
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DiagnoseListeTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("diagnoselistetypaa30type");
+    
+    /**
+     * Gets array of all "diagnose" elements
+     */
+    ehd.vdx.x001.DiagnoseListeTyp.Diagnose[] getDiagnoseArray();
+    
+    /**
+     * Gets ith "diagnose" element
+     */
+    ehd.vdx.x001.DiagnoseListeTyp.Diagnose getDiagnoseArray(int i);
+    
+    /**
+     * Returns number of "diagnose" element
+     */
+    int sizeOfDiagnoseArray();
+    
+    /**
+     * Sets array of all "diagnose" element
+     */
+    void setDiagnoseArray(ehd.vdx.x001.DiagnoseListeTyp.Diagnose[] diagnoseArray);
+    
+    /**
+     * Sets ith "diagnose" element
+     */
+    void setDiagnoseArray(int i, ehd.vdx.x001.DiagnoseListeTyp.Diagnose diagnose);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "diagnose" element
+     */
+    ehd.vdx.x001.DiagnoseListeTyp.Diagnose insertNewDiagnose(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "diagnose" element
+     */
+    ehd.vdx.x001.DiagnoseListeTyp.Diagnose addNewDiagnose();
+    
+    /**
+     * Removes the ith "diagnose" element
+     */
+    void removeDiagnose(int i);
+    
+    /**
+     * An XML diagnose(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Diagnose extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Diagnose.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("diagnose7c16elemtype");
+        
+        /**
+         * Gets the "diagnose_code" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode getDiagnoseCode();
+        
+        /**
+         * Sets the "diagnose_code" element
+         */
+        void setDiagnoseCode(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode diagnoseCode);
+        
+        /**
+         * Appends and returns a new empty "diagnose_code" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode addNewDiagnoseCode();
+        
+        /**
+         * Gets the "sicherheit" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit getSicherheit();
+        
+        /**
+         * Sets the "sicherheit" element
+         */
+        void setSicherheit(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit sicherheit);
+        
+        /**
+         * Appends and returns a new empty "sicherheit" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit addNewSicherheit();
+        
+        /**
+         * Gets the "lokalisation" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation getLokalisation();
+        
+        /**
+         * True if has "lokalisation" element
+         */
+        boolean isSetLokalisation();
+        
+        /**
+         * Sets the "lokalisation" element
+         */
+        void setLokalisation(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation lokalisation);
+        
+        /**
+         * Appends and returns a new empty "lokalisation" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation addNewLokalisation();
+        
+        /**
+         * Unsets the "lokalisation" element
+         */
+        void unsetLokalisation();
+        
+        /**
+         * Gets the "dokumentation" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation getDokumentation();
+        
+        /**
+         * True if has "dokumentation" element
+         */
+        boolean isSetDokumentation();
+        
+        /**
+         * Sets the "dokumentation" element
+         */
+        void setDokumentation(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation dokumentation);
+        
+        /**
+         * Appends and returns a new empty "dokumentation" element
+         */
+        ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation addNewDokumentation();
+        
+        /**
+         * Unsets the "dokumentation" element
+         */
+        void unsetDokumentation();
+        
+        /**
+         * An XML diagnose_code(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface DiagnoseCode extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DiagnoseCode.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("diagnosecode4e50elemtype");
+            
+            /**
+             * Gets the "V" attribute
+             */
+            java.lang.String getV();
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V xgetV();
+            
+            /**
+             * Sets the "V" attribute
+             */
+            void setV(java.lang.String v);
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V v);
+            
+            /**
+             * Gets the "S" attribute
+             */
+            java.lang.String getS();
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetS();
+            
+            /**
+             * True if has "S" attribute
+             */
+            boolean isSetS();
+            
+            /**
+             * Sets the "S" attribute
+             */
+            void setS(java.lang.String s);
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            void xsetS(org.apache.xmlbeans.XmlString s);
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            void unsetS();
+            
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$DiagnoseCode$V.
+             */
+            public interface V extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v5a0eattrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V newInstance() {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode newInstance() {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML sicherheit(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Sicherheit extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Sicherheit.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("sicherheita0c2elemtype");
+            
+            /**
+             * Gets the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V.Enum getV();
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V xgetV();
+            
+            /**
+             * Sets the "V" attribute
+             */
+            void setV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V.Enum v);
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V v);
+            
+            /**
+             * Gets the "S" attribute
+             */
+            java.lang.String getS();
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetS();
+            
+            /**
+             * True if has "S" attribute
+             */
+            boolean isSetS();
+            
+            /**
+             * Sets the "S" attribute
+             */
+            void setS(java.lang.String s);
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            void xsetS(org.apache.xmlbeans.XmlString s);
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            void unsetS();
+            
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Sicherheit$V.
+             */
+            public interface V extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v5dc4attrtype");
+                
+                org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+                void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+                
+                static final Enum V = Enum.forString("V");
+                static final Enum Z = Enum.forString("Z");
+                static final Enum A = Enum.forString("A");
+                static final Enum G = Enum.forString("G");
+                
+                static final int INT_V = Enum.INT_V;
+                static final int INT_Z = Enum.INT_Z;
+                static final int INT_A = Enum.INT_A;
+                static final int INT_G = Enum.INT_G;
+                
+                /**
+                 * Enumeration value class for ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Sicherheit$V.
+                 * These enum values can be used as follows:
+                 * <pre>
+                 * enum.toString(); // returns the string value of the enum
+                 * enum.intValue(); // returns an int value, useful for switches
+                 * // e.g., case Enum.INT_V
+                 * Enum.forString(s); // returns the enum value for a string
+                 * Enum.forInt(i); // returns the enum value for an int
+                 * </pre>
+                 * Enumeration objects are immutable singleton objects that
+                 * can be compared using == object equality. They have no
+                 * public constructor. See the constants defined within this
+                 * class for all the valid values.
+                 */
+                static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+                {
+                    /**
+                     * Returns the enum value for a string, or null if none.
+                     */
+                    public static Enum forString(java.lang.String s)
+                        { return (Enum)table.forString(s); }
+                    /**
+                     * Returns the enum value corresponding to an int, or null if none.
+                     */
+                    public static Enum forInt(int i)
+                        { return (Enum)table.forInt(i); }
+                    
+                    private Enum(java.lang.String s, int i)
+                        { super(s, i); }
+                    
+                    static final int INT_V = 1;
+                    static final int INT_Z = 2;
+                    static final int INT_A = 3;
+                    static final int INT_G = 4;
+                    
+                    public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                        new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                    (
+                      new Enum[]
+                      {
+                        new Enum("V", INT_V),
+                        new Enum("Z", INT_Z),
+                        new Enum("A", INT_A),
+                        new Enum("G", INT_G),
+                      }
+                    );
+                    private static final long serialVersionUID = 1L;
+                    private java.lang.Object readResolve() { return forInt(intValue()); } 
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V newInstance() {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit newInstance() {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML lokalisation(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Lokalisation extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Lokalisation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("lokalisation4beaelemtype");
+            
+            /**
+             * Gets the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V.Enum getV();
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V xgetV();
+            
+            /**
+             * Sets the "V" attribute
+             */
+            void setV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V.Enum v);
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V v);
+            
+            /**
+             * Gets the "S" attribute
+             */
+            java.lang.String getS();
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetS();
+            
+            /**
+             * True if has "S" attribute
+             */
+            boolean isSetS();
+            
+            /**
+             * Sets the "S" attribute
+             */
+            void setS(java.lang.String s);
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            void xsetS(org.apache.xmlbeans.XmlString s);
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            void unsetS();
+            
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Lokalisation$V.
+             */
+            public interface V extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vd06cattrtype");
+                
+                org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+                void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+                
+                static final Enum R = Enum.forString("R");
+                static final Enum L = Enum.forString("L");
+                static final Enum B = Enum.forString("B");
+                
+                static final int INT_R = Enum.INT_R;
+                static final int INT_L = Enum.INT_L;
+                static final int INT_B = Enum.INT_B;
+                
+                /**
+                 * Enumeration value class for ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Lokalisation$V.
+                 * These enum values can be used as follows:
+                 * <pre>
+                 * enum.toString(); // returns the string value of the enum
+                 * enum.intValue(); // returns an int value, useful for switches
+                 * // e.g., case Enum.INT_R
+                 * Enum.forString(s); // returns the enum value for a string
+                 * Enum.forInt(i); // returns the enum value for an int
+                 * </pre>
+                 * Enumeration objects are immutable singleton objects that
+                 * can be compared using == object equality. They have no
+                 * public constructor. See the constants defined within this
+                 * class for all the valid values.
+                 */
+                static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+                {
+                    /**
+                     * Returns the enum value for a string, or null if none.
+                     */
+                    public static Enum forString(java.lang.String s)
+                        { return (Enum)table.forString(s); }
+                    /**
+                     * Returns the enum value corresponding to an int, or null if none.
+                     */
+                    public static Enum forInt(int i)
+                        { return (Enum)table.forInt(i); }
+                    
+                    private Enum(java.lang.String s, int i)
+                        { super(s, i); }
+                    
+                    static final int INT_R = 1;
+                    static final int INT_L = 2;
+                    static final int INT_B = 3;
+                    
+                    public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                        new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                    (
+                      new Enum[]
+                      {
+                        new Enum("R", INT_R),
+                        new Enum("L", INT_L),
+                        new Enum("B", INT_B),
+                      }
+                    );
+                    private static final long serialVersionUID = 1L;
+                    private java.lang.Object readResolve() { return forInt(intValue()); } 
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V newInstance() {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation newInstance() {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML dokumentation(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Dokumentation extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Dokumentation.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("dokumentation4f44elemtype");
+            
+            /**
+             * Gets the "V" attribute
+             */
+            java.lang.String getV();
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V xgetV();
+            
+            /**
+             * Sets the "V" attribute
+             */
+            void setV(java.lang.String v);
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V v);
+            
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Dokumentation$V.
+             */
+            public interface V extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v5b02attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V newInstance() {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation newInstance() {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose newInstance() {
+              return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.DiagnoseListeTyp.Diagnose newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.DiagnoseListeTyp newInstance() {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DiagnoseListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DiagnoseListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * XML Type:  document_relationship_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DocumentRelationshipTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML document_relationship_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface DocumentRelationshipTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(DocumentRelationshipTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("documentrelationshiptypf7d4type");
+    
+    /**
+     * Gets the "document_relationship.type_cd" element
+     */
+    ehd.vdx.x001.DocumentRelationshipTypeCdTyp getDocumentRelationshipTypeCd();
+    
+    /**
+     * Sets the "document_relationship.type_cd" element
+     */
+    void setDocumentRelationshipTypeCd(ehd.vdx.x001.DocumentRelationshipTypeCdTyp documentRelationshipTypeCd);
+    
+    /**
+     * Appends and returns a new empty "document_relationship.type_cd" element
+     */
+    ehd.vdx.x001.DocumentRelationshipTypeCdTyp addNewDocumentRelationshipTypeCd();
+    
+    /**
+     * Gets the "related_document" element
+     */
+    ehd.vdx.x001.RelatedDocumentTyp getRelatedDocument();
+    
+    /**
+     * Sets the "related_document" element
+     */
+    void setRelatedDocument(ehd.vdx.x001.RelatedDocumentTyp relatedDocument);
+    
+    /**
+     * Appends and returns a new empty "related_document" element
+     */
+    ehd.vdx.x001.RelatedDocumentTyp addNewRelatedDocument();
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray();
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i);
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    int sizeOfLocalHeaderArray();
+    
+    /**
+     * Sets array of all "local_header" element
+     */
+    void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray);
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    void removeLocalHeader(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.DocumentRelationshipTyp newInstance() {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.DocumentRelationshipTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.DocumentRelationshipTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
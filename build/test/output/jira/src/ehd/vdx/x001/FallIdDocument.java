@@ -0,0 +1,866 @@
+/*
+ * An XML document type.
+ * Localname: fall_id
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FallIdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * A document containing one fall_id(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public interface FallIdDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FallIdDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("fallid373bdoctype");
+    
+    /**
+     * Gets the "fall_id" element
+     */
+    ehd.vdx.x001.FallIdDocument.FallId getFallId();
+    
+    /**
+     * Sets the "fall_id" element
+     */
+    void setFallId(ehd.vdx.x001.FallIdDocument.FallId fallId);
+    
+    /**
+     * Appends and returns a new empty "fall_id" element
+     */
+    ehd.vdx.x001.FallIdDocument.FallId addNewFallId();
+    
+    /**
+     * An XML fall_id(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface FallId extends ehd.vdx.x001.VdxIdTyp
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FallId.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("fallid4046elemtype");
+        
+        /**
+         * Gets the "patient_id" element
+         */
+        ehd.vdx.x001.FallIdDocument.FallId.PatientId getPatientId();
+        
+        /**
+         * Sets the "patient_id" element
+         */
+        void setPatientId(ehd.vdx.x001.FallIdDocument.FallId.PatientId patientId);
+        
+        /**
+         * Appends and returns a new empty "patient_id" element
+         */
+        ehd.vdx.x001.FallIdDocument.FallId.PatientId addNewPatientId();
+        
+        /**
+         * Gets the "schein_liste" element
+         */
+        ehd.vdx.x001.ScheinListeTyp getScheinListe();
+        
+        /**
+         * Sets the "schein_liste" element
+         */
+        void setScheinListe(ehd.vdx.x001.ScheinListeTyp scheinListe);
+        
+        /**
+         * Appends and returns a new empty "schein_liste" element
+         */
+        ehd.vdx.x001.ScheinListeTyp addNewScheinListe();
+        
+        /**
+         * An XML patient_id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface PatientId extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PatientId.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("patientid52f7elemtype");
+            
+            /**
+             * Gets the "vknr" element
+             */
+            ehd.vdx.x001.VknrDocument.Vknr getVknr();
+            
+            /**
+             * Sets the "vknr" element
+             */
+            void setVknr(ehd.vdx.x001.VknrDocument.Vknr vknr);
+            
+            /**
+             * Appends and returns a new empty "vknr" element
+             */
+            ehd.vdx.x001.VknrDocument.Vknr addNewVknr();
+            
+            /**
+             * Gets the "vdx_abrechnungsbereich" element
+             */
+            ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich getVdxAbrechnungsbereich();
+            
+            /**
+             * Sets the "vdx_abrechnungsbereich" element
+             */
+            void setVdxAbrechnungsbereich(ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich vdxAbrechnungsbereich);
+            
+            /**
+             * Appends and returns a new empty "vdx_abrechnungsbereich" element
+             */
+            ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich addNewVdxAbrechnungsbereich();
+            
+            /**
+             * Gets the "geschlecht" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht getGeschlecht();
+            
+            /**
+             * Sets the "geschlecht" element
+             */
+            void setGeschlecht(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht geschlecht);
+            
+            /**
+             * Appends and returns a new empty "geschlecht" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht addNewGeschlecht();
+            
+            /**
+             * Gets the "geburtsdatum" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum getGeburtsdatum();
+            
+            /**
+             * Sets the "geburtsdatum" element
+             */
+            void setGeburtsdatum(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum geburtsdatum);
+            
+            /**
+             * Appends and returns a new empty "geburtsdatum" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum addNewGeburtsdatum();
+            
+            /**
+             * Gets the "versichertenstatus" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus getVersichertenstatus();
+            
+            /**
+             * Sets the "versichertenstatus" element
+             */
+            void setVersichertenstatus(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus versichertenstatus);
+            
+            /**
+             * Appends and returns a new empty "versichertenstatus" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus addNewVersichertenstatus();
+            
+            /**
+             * Gets the "statusergaenzung" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung getStatusergaenzung();
+            
+            /**
+             * Sets the "statusergaenzung" element
+             */
+            void setStatusergaenzung(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung statusergaenzung);
+            
+            /**
+             * Appends and returns a new empty "statusergaenzung" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung addNewStatusergaenzung();
+            
+            /**
+             * Gets the "behandlungstage" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage getBehandlungstage();
+            
+            /**
+             * True if has "behandlungstage" element
+             */
+            boolean isSetBehandlungstage();
+            
+            /**
+             * Sets the "behandlungstage" element
+             */
+            void setBehandlungstage(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage behandlungstage);
+            
+            /**
+             * Appends and returns a new empty "behandlungstage" element
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage addNewBehandlungstage();
+            
+            /**
+             * Unsets the "behandlungstage" element
+             */
+            void unsetBehandlungstage();
+            
+            /**
+             * Gets the "RT" attribute
+             */
+            java.lang.String getRT();
+            
+            /**
+             * Gets (as xml) the "RT" attribute
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT xgetRT();
+            
+            /**
+             * Sets the "RT" attribute
+             */
+            void setRT(java.lang.String rt);
+            
+            /**
+             * Sets (as xml) the "RT" attribute
+             */
+            void xsetRT(ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT rt);
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            java.lang.String getEX();
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX xgetEX();
+            
+            /**
+             * True if has "EX" attribute
+             */
+            boolean isSetEX();
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            void setEX(java.lang.String ex);
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            void xsetEX(ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX ex);
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            void unsetEX();
+            
+            /**
+             * An XML geschlecht(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Geschlecht extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Geschlecht.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("geschlecht60ffelemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V v);
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                java.lang.String getS();
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetS();
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                boolean isSetS();
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                void setS(java.lang.String s);
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                void xsetS(org.apache.xmlbeans.XmlString s);
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                void unsetS();
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Geschlecht$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v443dattrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V newInstance() {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML geburtsdatum(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Geburtsdatum extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Geburtsdatum.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("geburtsdatumc86celemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.util.Calendar getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                org.apache.xmlbeans.XmlDate xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.util.Calendar v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(org.apache.xmlbeans.XmlDate v);
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML versichertenstatus(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Versichertenstatus extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Versichertenstatus.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("versichertenstatus6e37elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V v);
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                java.lang.String getS();
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetS();
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                boolean isSetS();
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                void setS(java.lang.String s);
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                void xsetS(org.apache.xmlbeans.XmlString s);
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                void unsetS();
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Versichertenstatus$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v3375attrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V newInstance() {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML statusergaenzung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Statusergaenzung extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Statusergaenzung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("statusergaenzungafc5elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V v);
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                java.lang.String getS();
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetS();
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                boolean isSetS();
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                void setS(java.lang.String s);
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                void xsetS(org.apache.xmlbeans.XmlString s);
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                void unsetS();
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Statusergaenzung$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vac83attrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V newInstance() {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML behandlungstage(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Behandlungstage extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Behandlungstage.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("behandlungstage7d01elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                int getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(int v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V v);
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Behandlungstage$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlInt
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vf083attrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V newInstance() {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$RT.
+             */
+            public interface RT extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("rtcfd5attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$EX.
+             */
+            public interface EX extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EX.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("exe584attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX newInstance() {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.FallIdDocument.FallId.PatientId newInstance() {
+                  return (ehd.vdx.x001.FallIdDocument.FallId.PatientId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.FallIdDocument.FallId.PatientId newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.FallIdDocument.FallId.PatientId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.FallIdDocument.FallId newInstance() {
+              return (ehd.vdx.x001.FallIdDocument.FallId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.FallIdDocument.FallId newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.FallIdDocument.FallId) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.FallIdDocument newInstance() {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.FallIdDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.FallIdDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.FallIdDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.FallIdDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.FallIdDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
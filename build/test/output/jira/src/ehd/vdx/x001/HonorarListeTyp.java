@@ -0,0 +1,402 @@
+/*
+ * XML Type:  honorar_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.HonorarListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML honorar_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface HonorarListeTyp extends ehd.vdx.x001.ListeIdTyp
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HonorarListeTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("honorarlistetyp6edbtype");
+    
+    /**
+     * Gets array of all "kt_honorar" elements
+     */
+    ehd.vdx.x001.HonorarListeTyp.KtHonorar[] getKtHonorarArray();
+    
+    /**
+     * Gets ith "kt_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.KtHonorar getKtHonorarArray(int i);
+    
+    /**
+     * Returns number of "kt_honorar" element
+     */
+    int sizeOfKtHonorarArray();
+    
+    /**
+     * Sets array of all "kt_honorar" element
+     */
+    void setKtHonorarArray(ehd.vdx.x001.HonorarListeTyp.KtHonorar[] ktHonorarArray);
+    
+    /**
+     * Sets ith "kt_honorar" element
+     */
+    void setKtHonorarArray(int i, ehd.vdx.x001.HonorarListeTyp.KtHonorar ktHonorar);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "kt_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.KtHonorar insertNewKtHonorar(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "kt_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.KtHonorar addNewKtHonorar();
+    
+    /**
+     * Removes the ith "kt_honorar" element
+     */
+    void removeKtHonorar(int i);
+    
+    /**
+     * Gets array of all "ms_honorar" elements
+     */
+    ehd.vdx.x001.HonorarListeTyp.MsHonorar[] getMsHonorarArray();
+    
+    /**
+     * Gets ith "ms_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.MsHonorar getMsHonorarArray(int i);
+    
+    /**
+     * Returns number of "ms_honorar" element
+     */
+    int sizeOfMsHonorarArray();
+    
+    /**
+     * Sets array of all "ms_honorar" element
+     */
+    void setMsHonorarArray(ehd.vdx.x001.HonorarListeTyp.MsHonorar[] msHonorarArray);
+    
+    /**
+     * Sets ith "ms_honorar" element
+     */
+    void setMsHonorarArray(int i, ehd.vdx.x001.HonorarListeTyp.MsHonorar msHonorar);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ms_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.MsHonorar insertNewMsHonorar(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ms_honorar" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.MsHonorar addNewMsHonorar();
+    
+    /**
+     * Removes the ith "ms_honorar" element
+     */
+    void removeMsHonorar(int i);
+    
+    /**
+     * Gets array of all "honorarkorrekturen" elements
+     */
+    ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[] getHonorarkorrekturenArray();
+    
+    /**
+     * Gets ith "honorarkorrekturen" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen getHonorarkorrekturenArray(int i);
+    
+    /**
+     * Returns number of "honorarkorrekturen" element
+     */
+    int sizeOfHonorarkorrekturenArray();
+    
+    /**
+     * Sets array of all "honorarkorrekturen" element
+     */
+    void setHonorarkorrekturenArray(ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[] honorarkorrekturenArray);
+    
+    /**
+     * Sets ith "honorarkorrekturen" element
+     */
+    void setHonorarkorrekturenArray(int i, ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen honorarkorrekturen);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "honorarkorrekturen" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen insertNewHonorarkorrekturen(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "honorarkorrekturen" element
+     */
+    ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen addNewHonorarkorrekturen();
+    
+    /**
+     * Removes the ith "honorarkorrekturen" element
+     */
+    void removeHonorarkorrekturen(int i);
+    
+    /**
+     * An XML kt_honorar(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface KtHonorar extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(KtHonorar.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("kthonorar7e3celemtype");
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung();
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung);
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung();
+        
+        /**
+         * Gets the "V" attribute
+         */
+        long getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        org.apache.xmlbeans.XmlLong xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(long v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(org.apache.xmlbeans.XmlLong v);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.HonorarListeTyp.KtHonorar newInstance() {
+              return (ehd.vdx.x001.HonorarListeTyp.KtHonorar) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.HonorarListeTyp.KtHonorar newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.HonorarListeTyp.KtHonorar) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML ms_honorar(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface MsHonorar extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MsHonorar.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("mshonorard6f9elemtype");
+        
+        /**
+         * Gets the "lb_hon_ms_kennung" element
+         */
+        ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung getLbHonMsKennung();
+        
+        /**
+         * Sets the "lb_hon_ms_kennung" element
+         */
+        void setLbHonMsKennung(ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung lbHonMsKennung);
+        
+        /**
+         * Appends and returns a new empty "lb_hon_ms_kennung" element
+         */
+        ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung addNewLbHonMsKennung();
+        
+        /**
+         * Gets the "V" attribute
+         */
+        long getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        org.apache.xmlbeans.XmlLong xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(long v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(org.apache.xmlbeans.XmlLong v);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.HonorarListeTyp.MsHonorar newInstance() {
+              return (ehd.vdx.x001.HonorarListeTyp.MsHonorar) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.HonorarListeTyp.MsHonorar newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.HonorarListeTyp.MsHonorar) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML honorarkorrekturen(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Honorarkorrekturen extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Honorarkorrekturen.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("honorarkorrekturen9e6celemtype");
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung();
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung);
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung();
+        
+        /**
+         * Gets the "V" attribute
+         */
+        long getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        org.apache.xmlbeans.XmlLong xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(long v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(org.apache.xmlbeans.XmlLong v);
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen newInstance() {
+              return (ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.HonorarListeTyp newInstance() {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.HonorarListeTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.HonorarListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.HonorarListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.HonorarListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
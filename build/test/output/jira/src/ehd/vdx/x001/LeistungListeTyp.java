@@ -0,0 +1,1189 @@
+/*
+ * XML Type:  leistung_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeistungListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML leistung_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface LeistungListeTyp extends ehd.vdx.x001.ListeIdTyp
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LeistungListeTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("leistunglistetyp9a8ftype");
+    
+    /**
+     * Gets array of all "leistung" elements
+     */
+    ehd.vdx.x001.LeistungListeTyp.Leistung[] getLeistungArray();
+    
+    /**
+     * Gets ith "leistung" element
+     */
+    ehd.vdx.x001.LeistungListeTyp.Leistung getLeistungArray(int i);
+    
+    /**
+     * Returns number of "leistung" element
+     */
+    int sizeOfLeistungArray();
+    
+    /**
+     * Sets array of all "leistung" element
+     */
+    void setLeistungArray(ehd.vdx.x001.LeistungListeTyp.Leistung[] leistungArray);
+    
+    /**
+     * Sets ith "leistung" element
+     */
+    void setLeistungArray(int i, ehd.vdx.x001.LeistungListeTyp.Leistung leistung);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "leistung" element
+     */
+    ehd.vdx.x001.LeistungListeTyp.Leistung insertNewLeistung(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "leistung" element
+     */
+    ehd.vdx.x001.LeistungListeTyp.Leistung addNewLeistung();
+    
+    /**
+     * Removes the ith "leistung" element
+     */
+    void removeLeistung(int i);
+    
+    /**
+     * An XML leistung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Leistung extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Leistung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("leistungdab6elemtype");
+        
+        /**
+         * Gets the "gkv_konto" element
+         */
+        ehd.vdx.x001.GkvKontoDocument.GkvKonto getGkvKonto();
+        
+        /**
+         * Sets the "gkv_konto" element
+         */
+        void setGkvKonto(ehd.vdx.x001.GkvKontoDocument.GkvKonto gkvKonto);
+        
+        /**
+         * Appends and returns a new empty "gkv_konto" element
+         */
+        ehd.vdx.x001.GkvKontoDocument.GkvKonto addNewGkvKonto();
+        
+        /**
+         * Gets the "gnr" element
+         */
+        ehd.vdx.x001.GnrDocument.Gnr getGnr();
+        
+        /**
+         * Sets the "gnr" element
+         */
+        void setGnr(ehd.vdx.x001.GnrDocument.Gnr gnr);
+        
+        /**
+         * Appends and returns a new empty "gnr" element
+         */
+        ehd.vdx.x001.GnrDocument.Gnr addNewGnr();
+        
+        /**
+         * Gets the "vorgang_kennung" element
+         */
+        ehd.vdx.x001.VorgangKennungDocument.VorgangKennung getVorgangKennung();
+        
+        /**
+         * True if has "vorgang_kennung" element
+         */
+        boolean isSetVorgangKennung();
+        
+        /**
+         * Sets the "vorgang_kennung" element
+         */
+        void setVorgangKennung(ehd.vdx.x001.VorgangKennungDocument.VorgangKennung vorgangKennung);
+        
+        /**
+         * Appends and returns a new empty "vorgang_kennung" element
+         */
+        ehd.vdx.x001.VorgangKennungDocument.VorgangKennung addNewVorgangKennung();
+        
+        /**
+         * Unsets the "vorgang_kennung" element
+         */
+        void unsetVorgangKennung();
+        
+        /**
+         * Gets the "le_kennung" element
+         */
+        ehd.vdx.x001.LeKennungDocument.LeKennung getLeKennung();
+        
+        /**
+         * True if has "le_kennung" element
+         */
+        boolean isSetLeKennung();
+        
+        /**
+         * Sets the "le_kennung" element
+         */
+        void setLeKennung(ehd.vdx.x001.LeKennungDocument.LeKennung leKennung);
+        
+        /**
+         * Appends and returns a new empty "le_kennung" element
+         */
+        ehd.vdx.x001.LeKennungDocument.LeKennung addNewLeKennung();
+        
+        /**
+         * Unsets the "le_kennung" element
+         */
+        void unsetLeKennung();
+        
+        /**
+         * Gets the "budget_kennung" element
+         */
+        ehd.vdx.x001.BudgetKennungDocument.BudgetKennung getBudgetKennung();
+        
+        /**
+         * Sets the "budget_kennung" element
+         */
+        void setBudgetKennung(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung budgetKennung);
+        
+        /**
+         * Appends and returns a new empty "budget_kennung" element
+         */
+        ehd.vdx.x001.BudgetKennungDocument.BudgetKennung addNewBudgetKennung();
+        
+        /**
+         * Gets array of all "kv_bewertungssteuerung" elements
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] getKvBewertungssteuerungArray();
+        
+        /**
+         * Gets ith "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung getKvBewertungssteuerungArray(int i);
+        
+        /**
+         * Returns number of "kv_bewertungssteuerung" element
+         */
+        int sizeOfKvBewertungssteuerungArray();
+        
+        /**
+         * Sets array of all "kv_bewertungssteuerung" element
+         */
+        void setKvBewertungssteuerungArray(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] kvBewertungssteuerungArray);
+        
+        /**
+         * Sets ith "kv_bewertungssteuerung" element
+         */
+        void setKvBewertungssteuerungArray(int i, ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung kvBewertungssteuerung);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung insertNewKvBewertungssteuerung(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung addNewKvBewertungssteuerung();
+        
+        /**
+         * Removes the ith "kv_bewertungssteuerung" element
+         */
+        void removeKvBewertungssteuerung(int i);
+        
+        /**
+         * Gets the "kbv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung getKbvBewertungssteuerung();
+        
+        /**
+         * True if has "kbv_bewertungssteuerung" element
+         */
+        boolean isSetKbvBewertungssteuerung();
+        
+        /**
+         * Sets the "kbv_bewertungssteuerung" element
+         */
+        void setKbvBewertungssteuerung(ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung kbvBewertungssteuerung);
+        
+        /**
+         * Appends and returns a new empty "kbv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung addNewKbvBewertungssteuerung();
+        
+        /**
+         * Unsets the "kbv_bewertungssteuerung" element
+         */
+        void unsetKbvBewertungssteuerung();
+        
+        /**
+         * Gets the "leistungsbedarf" element
+         */
+        ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf getLeistungsbedarf();
+        
+        /**
+         * Sets the "leistungsbedarf" element
+         */
+        void setLeistungsbedarf(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf leistungsbedarf);
+        
+        /**
+         * Appends and returns a new empty "leistungsbedarf" element
+         */
+        ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf addNewLeistungsbedarf();
+        
+        /**
+         * Gets the "haeufigkeit" element
+         */
+        ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit getHaeufigkeit();
+        
+        /**
+         * Sets the "haeufigkeit" element
+         */
+        void setHaeufigkeit(ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit haeufigkeit);
+        
+        /**
+         * Appends and returns a new empty "haeufigkeit" element
+         */
+        ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit addNewHaeufigkeit();
+        
+        /**
+         * Gets the "vertrag" element
+         */
+        ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag getVertrag();
+        
+        /**
+         * True if has "vertrag" element
+         */
+        boolean isSetVertrag();
+        
+        /**
+         * Sets the "vertrag" element
+         */
+        void setVertrag(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag vertrag);
+        
+        /**
+         * Appends and returns a new empty "vertrag" element
+         */
+        ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag addNewVertrag();
+        
+        /**
+         * Unsets the "vertrag" element
+         */
+        void unsetVertrag();
+        
+        /**
+         * Gets the "ops_code_liste" element
+         */
+        ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe getOpsCodeListe();
+        
+        /**
+         * True if has "ops_code_liste" element
+         */
+        boolean isSetOpsCodeListe();
+        
+        /**
+         * Sets the "ops_code_liste" element
+         */
+        void setOpsCodeListe(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe opsCodeListe);
+        
+        /**
+         * Appends and returns a new empty "ops_code_liste" element
+         */
+        ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe addNewOpsCodeListe();
+        
+        /**
+         * Unsets the "ops_code_liste" element
+         */
+        void unsetOpsCodeListe();
+        
+        /**
+         * An XML vertrag(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Vertrag extends org.apache.xmlbeans.XmlObject
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Vertrag.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vertragd669elemtype");
+            
+            /**
+             * Gets the "vertragsart" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart getVertragsart();
+            
+            /**
+             * Sets the "vertragsart" element
+             */
+            void setVertragsart(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart vertragsart);
+            
+            /**
+             * Appends and returns a new empty "vertragsart" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart addNewVertragsart();
+            
+            /**
+             * Gets the "id" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id getId();
+            
+            /**
+             * True if has "id" element
+             */
+            boolean isSetId();
+            
+            /**
+             * Sets the "id" element
+             */
+            void setId(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id id);
+            
+            /**
+             * Appends and returns a new empty "id" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id addNewId();
+            
+            /**
+             * Unsets the "id" element
+             */
+            void unsetId();
+            
+            /**
+             * Gets the "bezeichnung" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung getBezeichnung();
+            
+            /**
+             * True if has "bezeichnung" element
+             */
+            boolean isSetBezeichnung();
+            
+            /**
+             * Sets the "bezeichnung" element
+             */
+            void setBezeichnung(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung bezeichnung);
+            
+            /**
+             * Appends and returns a new empty "bezeichnung" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung addNewBezeichnung();
+            
+            /**
+             * Unsets the "bezeichnung" element
+             */
+            void unsetBezeichnung();
+            
+            /**
+             * Gets the "verguetung" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung getVerguetung();
+            
+            /**
+             * True if has "verguetung" element
+             */
+            boolean isSetVerguetung();
+            
+            /**
+             * Sets the "verguetung" element
+             */
+            void setVerguetung(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung verguetung);
+            
+            /**
+             * Appends and returns a new empty "verguetung" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung addNewVerguetung();
+            
+            /**
+             * Unsets the "verguetung" element
+             */
+            void unsetVerguetung();
+            
+            /**
+             * Gets the "bewertung" element
+             */
+            ehd.vdx.x001.BewertungDocument.Bewertung getBewertung();
+            
+            /**
+             * True if has "bewertung" element
+             */
+            boolean isSetBewertung();
+            
+            /**
+             * Sets the "bewertung" element
+             */
+            void setBewertung(ehd.vdx.x001.BewertungDocument.Bewertung bewertung);
+            
+            /**
+             * Appends and returns a new empty "bewertung" element
+             */
+            ehd.vdx.x001.BewertungDocument.Bewertung addNewBewertung();
+            
+            /**
+             * Unsets the "bewertung" element
+             */
+            void unsetBewertung();
+            
+            /**
+             * Gets the "gnr_text" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText getGnrText();
+            
+            /**
+             * Sets the "gnr_text" element
+             */
+            void setGnrText(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText gnrText);
+            
+            /**
+             * Appends and returns a new empty "gnr_text" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText addNewGnrText();
+            
+            /**
+             * An XML vertragsart(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Vertragsart extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Vertragsart.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vertragsart4becelemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V v);
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                java.lang.String getS();
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetS();
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                boolean isSetS();
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                void setS(java.lang.String s);
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                void xsetS(org.apache.xmlbeans.XmlString s);
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                void unsetS();
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Vertragsart$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vb9aaattrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML id(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Id extends ehd.vdx.x001.IdTyp
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Id.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("idc360elemtype");
+                
+                /**
+                 * Gets the "EX" attribute
+                 */
+                java.lang.String getEX();
+                
+                /**
+                 * Gets (as xml) the "EX" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetEX();
+                
+                /**
+                 * True if has "EX" attribute
+                 */
+                boolean isSetEX();
+                
+                /**
+                 * Sets the "EX" attribute
+                 */
+                void setEX(java.lang.String ex);
+                
+                /**
+                 * Sets (as xml) the "EX" attribute
+                 */
+                void xsetEX(org.apache.xmlbeans.XmlString ex);
+                
+                /**
+                 * Unsets the "EX" attribute
+                 */
+                void unsetEX();
+                
+                /**
+                 * An XML RT(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Id$RT.
+                 */
+                public interface RT extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("rt63beattrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * An XML EX(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Id$EX.
+                 */
+                public interface EX extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EX.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("ex5b2dattrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML bezeichnung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Bezeichnung extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Bezeichnung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("bezeichnung16b5elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V v);
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Bezeichnung$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v8473attrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML verguetung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface Verguetung extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Verguetung.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("verguetungf933elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                int getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                org.apache.xmlbeans.XmlInt xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(int v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(org.apache.xmlbeans.XmlInt v);
+                
+                /**
+                 * Gets the "DN" attribute
+                 */
+                int getDN();
+                
+                /**
+                 * Gets (as xml) the "DN" attribute
+                 */
+                org.apache.xmlbeans.XmlInt xgetDN();
+                
+                /**
+                 * True if has "DN" attribute
+                 */
+                boolean isSetDN();
+                
+                /**
+                 * Sets the "DN" attribute
+                 */
+                void setDN(int dn);
+                
+                /**
+                 * Sets (as xml) the "DN" attribute
+                 */
+                void xsetDN(org.apache.xmlbeans.XmlInt dn);
+                
+                /**
+                 * Unsets the "DN" attribute
+                 */
+                void unsetDN();
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML gnr_text(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface GnrText extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(GnrText.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("gnrtextb146elemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V v);
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$GnrText$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v4c48attrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag newInstance() {
+                  return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML ops_code_liste(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface OpsCodeListe extends ehd.vdx.x001.ListeIdTyp
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OpsCodeListe.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("opscodeliste37b4elemtype");
+            
+            /**
+             * Gets array of all "ops_code" elements
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[] getOpsCodeArray();
+            
+            /**
+             * Gets ith "ops_code" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode getOpsCodeArray(int i);
+            
+            /**
+             * Returns number of "ops_code" element
+             */
+            int sizeOfOpsCodeArray();
+            
+            /**
+             * Sets array of all "ops_code" element
+             */
+            void setOpsCodeArray(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[] opsCodeArray);
+            
+            /**
+             * Sets ith "ops_code" element
+             */
+            void setOpsCodeArray(int i, ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode opsCode);
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "ops_code" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode insertNewOpsCode(int i);
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "ops_code" element
+             */
+            ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode addNewOpsCode();
+            
+            /**
+             * Removes the ith "ops_code" element
+             */
+            void removeOpsCode(int i);
+            
+            /**
+             * An XML ops_code(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface OpsCode extends org.apache.xmlbeans.XmlObject
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(OpsCode.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("opscodede7eelemtype");
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                java.lang.String getV();
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V xgetV();
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                void setV(java.lang.String v);
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V v);
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                java.lang.String getS();
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                org.apache.xmlbeans.XmlString xgetS();
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                boolean isSetS();
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                void setS(java.lang.String s);
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                void xsetS(org.apache.xmlbeans.XmlString s);
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                void unsetS();
+                
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$OpsCodeListe$OpsCode$V.
+                 */
+                public interface V extends org.apache.xmlbeans.XmlString
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(V.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("v3d3cattrtype");
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V newValue(java.lang.Object obj) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V) type.newValue( obj ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V newInstance() {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode newInstance() {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe newInstance() {
+                  return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.LeistungListeTyp.Leistung newInstance() {
+              return (ehd.vdx.x001.LeistungListeTyp.Leistung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.LeistungListeTyp.Leistung newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.LeistungListeTyp.Leistung) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.LeistungListeTyp newInstance() {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungListeTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LeistungListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LeistungListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LeistungListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * XML Type:  leistungsbedarf_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeistungsbedarfListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML leistungsbedarf_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface LeistungsbedarfListeTyp extends ehd.vdx.x001.ListeIdTyp
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LeistungsbedarfListeTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("leistungsbedarflistetyp93eatype");
+    
+    /**
+     * Gets array of all "kt_leistungsbedarf" elements
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[] getKtLeistungsbedarfArray();
+    
+    /**
+     * Gets ith "kt_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf getKtLeistungsbedarfArray(int i);
+    
+    /**
+     * Returns number of "kt_leistungsbedarf" element
+     */
+    int sizeOfKtLeistungsbedarfArray();
+    
+    /**
+     * Sets array of all "kt_leistungsbedarf" element
+     */
+    void setKtLeistungsbedarfArray(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[] ktLeistungsbedarfArray);
+    
+    /**
+     * Sets ith "kt_leistungsbedarf" element
+     */
+    void setKtLeistungsbedarfArray(int i, ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf ktLeistungsbedarf);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "kt_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf insertNewKtLeistungsbedarf(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "kt_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf addNewKtLeistungsbedarf();
+    
+    /**
+     * Removes the ith "kt_leistungsbedarf" element
+     */
+    void removeKtLeistungsbedarf(int i);
+    
+    /**
+     * Gets array of all "ms_leistungsbedarf" elements
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[] getMsLeistungsbedarfArray();
+    
+    /**
+     * Gets ith "ms_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf getMsLeistungsbedarfArray(int i);
+    
+    /**
+     * Returns number of "ms_leistungsbedarf" element
+     */
+    int sizeOfMsLeistungsbedarfArray();
+    
+    /**
+     * Sets array of all "ms_leistungsbedarf" element
+     */
+    void setMsLeistungsbedarfArray(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[] msLeistungsbedarfArray);
+    
+    /**
+     * Sets ith "ms_leistungsbedarf" element
+     */
+    void setMsLeistungsbedarfArray(int i, ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf msLeistungsbedarf);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ms_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf insertNewMsLeistungsbedarf(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ms_leistungsbedarf" element
+     */
+    ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf addNewMsLeistungsbedarf();
+    
+    /**
+     * Removes the ith "ms_leistungsbedarf" element
+     */
+    void removeMsLeistungsbedarf(int i);
+    
+    /**
+     * An XML kt_leistungsbedarf(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface KtLeistungsbedarf extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(KtLeistungsbedarf.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("ktleistungsbedarf569aelemtype");
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung();
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung);
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung();
+        
+        /**
+         * Gets the "V" attribute
+         */
+        long getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        org.apache.xmlbeans.XmlLong xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(long v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(org.apache.xmlbeans.XmlLong v);
+        
+        /**
+         * Gets the "U" attribute
+         */
+        ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U.Enum getU();
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U xgetU();
+        
+        /**
+         * Sets the "U" attribute
+         */
+        void setU(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U.Enum u);
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        void xsetU(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U u);
+        
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungsbedarfListeTyp$KtLeistungsbedarf$U.
+         */
+        public interface U extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(U.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("u3a7dattrtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum X_1 = Enum.forString("1");
+            static final Enum X_2 = Enum.forString("2");
+            
+            static final int INT_X_1 = Enum.INT_X_1;
+            static final int INT_X_2 = Enum.INT_X_2;
+            
+            /**
+             * Enumeration value class for ehd.vdx.x001.LeistungsbedarfListeTyp$KtLeistungsbedarf$U.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_X_1
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_X_1 = 1;
+                static final int INT_X_2 = 2;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("1", INT_X_1),
+                      new Enum("2", INT_X_2),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U newValue(java.lang.Object obj) {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U) type.newValue( obj ); }
+                
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U newInstance() {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf newInstance() {
+              return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML ms_leistungsbedarf(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface MsLeistungsbedarf extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(MsLeistungsbedarf.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("msleistungsbedarf9557elemtype");
+        
+        /**
+         * Gets the "lb_hon_ms_kennung" element
+         */
+        ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung getLbHonMsKennung();
+        
+        /**
+         * Sets the "lb_hon_ms_kennung" element
+         */
+        void setLbHonMsKennung(ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung lbHonMsKennung);
+        
+        /**
+         * Appends and returns a new empty "lb_hon_ms_kennung" element
+         */
+        ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung addNewLbHonMsKennung();
+        
+        /**
+         * Gets the "V" attribute
+         */
+        long getV();
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        org.apache.xmlbeans.XmlLong xgetV();
+        
+        /**
+         * Sets the "V" attribute
+         */
+        void setV(long v);
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        void xsetV(org.apache.xmlbeans.XmlLong v);
+        
+        /**
+         * Gets the "U" attribute
+         */
+        ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U.Enum getU();
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U xgetU();
+        
+        /**
+         * Sets the "U" attribute
+         */
+        void setU(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U.Enum u);
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        void xsetU(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U u);
+        
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungsbedarfListeTyp$MsLeistungsbedarf$U.
+         */
+        public interface U extends org.apache.xmlbeans.XmlString
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(U.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("u793aattrtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum X_1 = Enum.forString("1");
+            static final Enum X_2 = Enum.forString("2");
+            
+            static final int INT_X_1 = Enum.INT_X_1;
+            static final int INT_X_2 = Enum.INT_X_2;
+            
+            /**
+             * Enumeration value class for ehd.vdx.x001.LeistungsbedarfListeTyp$MsLeistungsbedarf$U.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_X_1
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_X_1 = 1;
+                static final int INT_X_2 = 2;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("1", INT_X_1),
+                      new Enum("2", INT_X_2),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U newValue(java.lang.Object obj) {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U) type.newValue( obj ); }
+                
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U newInstance() {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf newInstance() {
+              return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp newInstance() {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LeistungsbedarfListeTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LeistungsbedarfListeTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
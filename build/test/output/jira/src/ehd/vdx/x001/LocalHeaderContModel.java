@@ -0,0 +1,186 @@
+/*
+ * XML Type:  local_header-cont.model
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LocalHeaderContModel
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML local_header-cont.model(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface LocalHeaderContModel extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LocalHeaderContModel.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("localheadercontmodel0dc5type");
+    
+    /**
+     * Gets the "ignore" attribute
+     */
+    ehd.vdx.x001.IgnoreTyp.Enum getIgnore();
+    
+    /**
+     * Gets (as xml) the "ignore" attribute
+     */
+    ehd.vdx.x001.IgnoreTyp xgetIgnore();
+    
+    /**
+     * True if has "ignore" attribute
+     */
+    boolean isSetIgnore();
+    
+    /**
+     * Sets the "ignore" attribute
+     */
+    void setIgnore(ehd.vdx.x001.IgnoreTyp.Enum ignore);
+    
+    /**
+     * Sets (as xml) the "ignore" attribute
+     */
+    void xsetIgnore(ehd.vdx.x001.IgnoreTyp ignore);
+    
+    /**
+     * Unsets the "ignore" attribute
+     */
+    void unsetIgnore();
+    
+    /**
+     * Gets the "descriptor" attribute
+     */
+    java.lang.String getDescriptor();
+    
+    /**
+     * Gets (as xml) the "descriptor" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetDescriptor();
+    
+    /**
+     * True if has "descriptor" attribute
+     */
+    boolean isSetDescriptor();
+    
+    /**
+     * Sets the "descriptor" attribute
+     */
+    void setDescriptor(java.lang.String descriptor);
+    
+    /**
+     * Sets (as xml) the "descriptor" attribute
+     */
+    void xsetDescriptor(org.apache.xmlbeans.XmlString descriptor);
+    
+    /**
+     * Unsets the "descriptor" attribute
+     */
+    void unsetDescriptor();
+    
+    /**
+     * Gets the "render" attribute
+     */
+    java.lang.String getRender();
+    
+    /**
+     * Gets (as xml) the "render" attribute
+     */
+    org.apache.xmlbeans.XmlString xgetRender();
+    
+    /**
+     * True if has "render" attribute
+     */
+    boolean isSetRender();
+    
+    /**
+     * Sets the "render" attribute
+     */
+    void setRender(java.lang.String render);
+    
+    /**
+     * Sets (as xml) the "render" attribute
+     */
+    void xsetRender(org.apache.xmlbeans.XmlString render);
+    
+    /**
+     * Unsets the "render" attribute
+     */
+    void unsetRender();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.LocalHeaderContModel newInstance() {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.LocalHeaderContModel parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LocalHeaderContModel parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.LocalHeaderContModel parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.LocalHeaderContModel) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * XML Type:  patient_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PatientTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML patient_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface PatientTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PatientTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("patienttypfdbdtype");
+    
+    /**
+     * Gets the "patient.type_cd" element
+     */
+    ehd.vdx.x001.VSStringTyp getPatientTypeCd();
+    
+    /**
+     * True if has "patient.type_cd" element
+     */
+    boolean isSetPatientTypeCd();
+    
+    /**
+     * Sets the "patient.type_cd" element
+     */
+    void setPatientTypeCd(ehd.vdx.x001.VSStringTyp patientTypeCd);
+    
+    /**
+     * Appends and returns a new empty "patient.type_cd" element
+     */
+    ehd.vdx.x001.VSStringTyp addNewPatientTypeCd();
+    
+    /**
+     * Unsets the "patient.type_cd" element
+     */
+    void unsetPatientTypeCd();
+    
+    /**
+     * Gets the "person" element
+     */
+    ehd.vdx.x001.PersonTyp getPerson();
+    
+    /**
+     * Sets the "person" element
+     */
+    void setPerson(ehd.vdx.x001.PersonTyp person);
+    
+    /**
+     * Appends and returns a new empty "person" element
+     */
+    ehd.vdx.x001.PersonTyp addNewPerson();
+    
+    /**
+     * Gets the "birth_dttm" element
+     */
+    ehd.vdx.x001.VDateTyp getBirthDttm();
+    
+    /**
+     * True if has "birth_dttm" element
+     */
+    boolean isSetBirthDttm();
+    
+    /**
+     * Sets the "birth_dttm" element
+     */
+    void setBirthDttm(ehd.vdx.x001.VDateTyp birthDttm);
+    
+    /**
+     * Appends and returns a new empty "birth_dttm" element
+     */
+    ehd.vdx.x001.VDateTyp addNewBirthDttm();
+    
+    /**
+     * Unsets the "birth_dttm" element
+     */
+    void unsetBirthDttm();
+    
+    /**
+     * Gets the "administrative_gender_cd" element
+     */
+    ehd.vdx.x001.VSStringTyp getAdministrativeGenderCd();
+    
+    /**
+     * True if has "administrative_gender_cd" element
+     */
+    boolean isSetAdministrativeGenderCd();
+    
+    /**
+     * Sets the "administrative_gender_cd" element
+     */
+    void setAdministrativeGenderCd(ehd.vdx.x001.VSStringTyp administrativeGenderCd);
+    
+    /**
+     * Appends and returns a new empty "administrative_gender_cd" element
+     */
+    ehd.vdx.x001.VSStringTyp addNewAdministrativeGenderCd();
+    
+    /**
+     * Unsets the "administrative_gender_cd" element
+     */
+    void unsetAdministrativeGenderCd();
+    
+    /**
+     * Gets the "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel getLocalHeader();
+    
+    /**
+     * True if has "local_header" element
+     */
+    boolean isSetLocalHeader();
+    
+    /**
+     * Sets the "local_header" element
+     */
+    void setLocalHeader(ehd.vdx.x001.LocalHeaderContModel localHeader);
+    
+    /**
+     * Appends and returns a new empty "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+    
+    /**
+     * Unsets the "local_header" element
+     */
+    void unsetLocalHeader();
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.PatientTyp newInstance() {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.PatientTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.PatientTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.PatientTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PatientTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PatientTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PatientTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * XML Type:  person_name_nm_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonNameNmTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML person_name_nm_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface PersonNameNmTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PersonNameNmTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("personnamenmtyp61f3type");
+    
+    /**
+     * Gets array of all "GIV" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getGIVArray();
+    
+    /**
+     * Gets ith "GIV" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getGIVArray(int i);
+    
+    /**
+     * Returns number of "GIV" element
+     */
+    int sizeOfGIVArray();
+    
+    /**
+     * Sets array of all "GIV" element
+     */
+    void setGIVArray(ehd.vdx.x001.PnxpStringTyp[] givArray);
+    
+    /**
+     * Sets ith "GIV" element
+     */
+    void setGIVArray(int i, ehd.vdx.x001.PnxpStringTyp giv);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "GIV" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewGIV(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "GIV" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewGIV();
+    
+    /**
+     * Removes the ith "GIV" element
+     */
+    void removeGIV(int i);
+    
+    /**
+     * Gets array of all "MID" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getMIDArray();
+    
+    /**
+     * Gets ith "MID" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getMIDArray(int i);
+    
+    /**
+     * Returns number of "MID" element
+     */
+    int sizeOfMIDArray();
+    
+    /**
+     * Sets array of all "MID" element
+     */
+    void setMIDArray(ehd.vdx.x001.PnxpStringTyp[] midArray);
+    
+    /**
+     * Sets ith "MID" element
+     */
+    void setMIDArray(int i, ehd.vdx.x001.PnxpStringTyp mid);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "MID" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewMID(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "MID" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewMID();
+    
+    /**
+     * Removes the ith "MID" element
+     */
+    void removeMID(int i);
+    
+    /**
+     * Gets array of all "FAM" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getFAMArray();
+    
+    /**
+     * Gets ith "FAM" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getFAMArray(int i);
+    
+    /**
+     * Returns number of "FAM" element
+     */
+    int sizeOfFAMArray();
+    
+    /**
+     * Sets array of all "FAM" element
+     */
+    void setFAMArray(ehd.vdx.x001.PnxpStringTyp[] famArray);
+    
+    /**
+     * Sets ith "FAM" element
+     */
+    void setFAMArray(int i, ehd.vdx.x001.PnxpStringTyp fam);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "FAM" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewFAM(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "FAM" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewFAM();
+    
+    /**
+     * Removes the ith "FAM" element
+     */
+    void removeFAM(int i);
+    
+    /**
+     * Gets array of all "PFX" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getPFXArray();
+    
+    /**
+     * Gets ith "PFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getPFXArray(int i);
+    
+    /**
+     * Returns number of "PFX" element
+     */
+    int sizeOfPFXArray();
+    
+    /**
+     * Sets array of all "PFX" element
+     */
+    void setPFXArray(ehd.vdx.x001.PnxpStringTyp[] pfxArray);
+    
+    /**
+     * Sets ith "PFX" element
+     */
+    void setPFXArray(int i, ehd.vdx.x001.PnxpStringTyp pfx);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "PFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewPFX(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "PFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewPFX();
+    
+    /**
+     * Removes the ith "PFX" element
+     */
+    void removePFX(int i);
+    
+    /**
+     * Gets array of all "SFX" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getSFXArray();
+    
+    /**
+     * Gets ith "SFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getSFXArray(int i);
+    
+    /**
+     * Returns number of "SFX" element
+     */
+    int sizeOfSFXArray();
+    
+    /**
+     * Sets array of all "SFX" element
+     */
+    void setSFXArray(ehd.vdx.x001.PnxpStringTyp[] sfxArray);
+    
+    /**
+     * Sets ith "SFX" element
+     */
+    void setSFXArray(int i, ehd.vdx.x001.PnxpStringTyp sfx);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "SFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewSFX(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "SFX" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewSFX();
+    
+    /**
+     * Removes the ith "SFX" element
+     */
+    void removeSFX(int i);
+    
+    /**
+     * Gets array of all "DEL" elements
+     */
+    ehd.vdx.x001.PnxpStringTyp[] getDELArray();
+    
+    /**
+     * Gets ith "DEL" element
+     */
+    ehd.vdx.x001.PnxpStringTyp getDELArray(int i);
+    
+    /**
+     * Returns number of "DEL" element
+     */
+    int sizeOfDELArray();
+    
+    /**
+     * Sets array of all "DEL" element
+     */
+    void setDELArray(ehd.vdx.x001.PnxpStringTyp[] delArray);
+    
+    /**
+     * Sets ith "DEL" element
+     */
+    void setDELArray(int i, ehd.vdx.x001.PnxpStringTyp del);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "DEL" element
+     */
+    ehd.vdx.x001.PnxpStringTyp insertNewDEL(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "DEL" element
+     */
+    ehd.vdx.x001.PnxpStringTyp addNewDEL();
+    
+    /**
+     * Removes the ith "DEL" element
+     */
+    void removeDEL(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.PersonNameNmTyp newInstance() {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.PersonNameNmTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PersonNameNmTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PersonNameNmTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PersonNameNmTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
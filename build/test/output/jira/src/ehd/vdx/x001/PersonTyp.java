@@ -0,0 +1,306 @@
+/*
+ * XML Type:  person_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML person_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface PersonTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(PersonTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("persontyp133ftype");
+    
+    /**
+     * Gets the "id" element
+     */
+    ehd.vdx.x001.IdTyp getId();
+    
+    /**
+     * True if has "id" element
+     */
+    boolean isSetId();
+    
+    /**
+     * Sets the "id" element
+     */
+    void setId(ehd.vdx.x001.IdTyp id);
+    
+    /**
+     * Appends and returns a new empty "id" element
+     */
+    ehd.vdx.x001.IdTyp addNewId();
+    
+    /**
+     * Unsets the "id" element
+     */
+    void unsetId();
+    
+    /**
+     * Gets the "person_name" element
+     */
+    ehd.vdx.x001.PersonNameTyp getPersonName();
+    
+    /**
+     * True if has "person_name" element
+     */
+    boolean isSetPersonName();
+    
+    /**
+     * Sets the "person_name" element
+     */
+    void setPersonName(ehd.vdx.x001.PersonNameTyp personName);
+    
+    /**
+     * Appends and returns a new empty "person_name" element
+     */
+    ehd.vdx.x001.PersonNameTyp addNewPersonName();
+    
+    /**
+     * Unsets the "person_name" element
+     */
+    void unsetPersonName();
+    
+    /**
+     * Gets array of all "organization.nm" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getOrganizationNmArray();
+    
+    /**
+     * Gets ith "organization.nm" element
+     */
+    ehd.vdx.x001.VStringTyp getOrganizationNmArray(int i);
+    
+    /**
+     * Returns number of "organization.nm" element
+     */
+    int sizeOfOrganizationNmArray();
+    
+    /**
+     * Sets array of all "organization.nm" element
+     */
+    void setOrganizationNmArray(ehd.vdx.x001.VStringTyp[] organizationNmArray);
+    
+    /**
+     * Sets ith "organization.nm" element
+     */
+    void setOrganizationNmArray(int i, ehd.vdx.x001.VStringTyp organizationNm);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization.nm" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewOrganizationNm(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization.nm" element
+     */
+    ehd.vdx.x001.VStringTyp addNewOrganizationNm();
+    
+    /**
+     * Removes the ith "organization.nm" element
+     */
+    void removeOrganizationNm(int i);
+    
+    /**
+     * Gets array of all "addr" elements
+     */
+    ehd.vdx.x001.AddrTyp[] getAddrArray();
+    
+    /**
+     * Gets ith "addr" element
+     */
+    ehd.vdx.x001.AddrTyp getAddrArray(int i);
+    
+    /**
+     * Returns number of "addr" element
+     */
+    int sizeOfAddrArray();
+    
+    /**
+     * Sets array of all "addr" element
+     */
+    void setAddrArray(ehd.vdx.x001.AddrTyp[] addrArray);
+    
+    /**
+     * Sets ith "addr" element
+     */
+    void setAddrArray(int i, ehd.vdx.x001.AddrTyp addr);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "addr" element
+     */
+    ehd.vdx.x001.AddrTyp insertNewAddr(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "addr" element
+     */
+    ehd.vdx.x001.AddrTyp addNewAddr();
+    
+    /**
+     * Removes the ith "addr" element
+     */
+    void removeAddr(int i);
+    
+    /**
+     * Gets array of all "telecom" elements
+     */
+    ehd.vdx.x001.VStringTyp[] getTelecomArray();
+    
+    /**
+     * Gets ith "telecom" element
+     */
+    ehd.vdx.x001.VStringTyp getTelecomArray(int i);
+    
+    /**
+     * Returns number of "telecom" element
+     */
+    int sizeOfTelecomArray();
+    
+    /**
+     * Sets array of all "telecom" element
+     */
+    void setTelecomArray(ehd.vdx.x001.VStringTyp[] telecomArray);
+    
+    /**
+     * Sets ith "telecom" element
+     */
+    void setTelecomArray(int i, ehd.vdx.x001.VStringTyp telecom);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "telecom" element
+     */
+    ehd.vdx.x001.VStringTyp insertNewTelecom(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "telecom" element
+     */
+    ehd.vdx.x001.VStringTyp addNewTelecom();
+    
+    /**
+     * Removes the ith "telecom" element
+     */
+    void removeTelecom(int i);
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray();
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i);
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    int sizeOfLocalHeaderArray();
+    
+    /**
+     * Sets array of all "local_header" element
+     */
+    void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray);
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    void removeLocalHeader(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.PersonTyp newInstance() {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.PersonTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.PersonTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.PersonTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PersonTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.PersonTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.PersonTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * XML Type:  provider_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ProviderTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML provider_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface ProviderTyp extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ProviderTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("providertyp719btype");
+    
+    /**
+     * Gets the "provider.type_cd" element
+     */
+    ehd.vdx.x001.ProviderTypeCdTyp getProviderTypeCd();
+    
+    /**
+     * True if has "provider.type_cd" element
+     */
+    boolean isSetProviderTypeCd();
+    
+    /**
+     * Sets the "provider.type_cd" element
+     */
+    void setProviderTypeCd(ehd.vdx.x001.ProviderTypeCdTyp providerTypeCd);
+    
+    /**
+     * Appends and returns a new empty "provider.type_cd" element
+     */
+    ehd.vdx.x001.ProviderTypeCdTyp addNewProviderTypeCd();
+    
+    /**
+     * Unsets the "provider.type_cd" element
+     */
+    void unsetProviderTypeCd();
+    
+    /**
+     * Gets the "function_cd" element
+     */
+    ehd.vdx.x001.FunctionCdTyp getFunctionCd();
+    
+    /**
+     * True if has "function_cd" element
+     */
+    boolean isSetFunctionCd();
+    
+    /**
+     * Sets the "function_cd" element
+     */
+    void setFunctionCd(ehd.vdx.x001.FunctionCdTyp functionCd);
+    
+    /**
+     * Appends and returns a new empty "function_cd" element
+     */
+    ehd.vdx.x001.FunctionCdTyp addNewFunctionCd();
+    
+    /**
+     * Unsets the "function_cd" element
+     */
+    void unsetFunctionCd();
+    
+    /**
+     * Gets the "participation_tmr" element
+     */
+    ehd.vdx.x001.VZeitraumTyp getParticipationTmr();
+    
+    /**
+     * True if has "participation_tmr" element
+     */
+    boolean isSetParticipationTmr();
+    
+    /**
+     * Sets the "participation_tmr" element
+     */
+    void setParticipationTmr(ehd.vdx.x001.VZeitraumTyp participationTmr);
+    
+    /**
+     * Appends and returns a new empty "participation_tmr" element
+     */
+    ehd.vdx.x001.VZeitraumTyp addNewParticipationTmr();
+    
+    /**
+     * Unsets the "participation_tmr" element
+     */
+    void unsetParticipationTmr();
+    
+    /**
+     * Gets array of all "person" elements
+     */
+    ehd.vdx.x001.PersonTyp[] getPersonArray();
+    
+    /**
+     * Gets ith "person" element
+     */
+    ehd.vdx.x001.PersonTyp getPersonArray(int i);
+    
+    /**
+     * Returns number of "person" element
+     */
+    int sizeOfPersonArray();
+    
+    /**
+     * Sets array of all "person" element
+     */
+    void setPersonArray(ehd.vdx.x001.PersonTyp[] personArray);
+    
+    /**
+     * Sets ith "person" element
+     */
+    void setPersonArray(int i, ehd.vdx.x001.PersonTyp person);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "person" element
+     */
+    ehd.vdx.x001.PersonTyp insertNewPerson(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "person" element
+     */
+    ehd.vdx.x001.PersonTyp addNewPerson();
+    
+    /**
+     * Removes the ith "person" element
+     */
+    void removePerson(int i);
+    
+    /**
+     * Gets array of all "organization" elements
+     */
+    ehd.vdx.x001.OrganizationTyp[] getOrganizationArray();
+    
+    /**
+     * Gets ith "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp getOrganizationArray(int i);
+    
+    /**
+     * Returns number of "organization" element
+     */
+    int sizeOfOrganizationArray();
+    
+    /**
+     * Sets array of all "organization" element
+     */
+    void setOrganizationArray(ehd.vdx.x001.OrganizationTyp[] organizationArray);
+    
+    /**
+     * Sets ith "organization" element
+     */
+    void setOrganizationArray(int i, ehd.vdx.x001.OrganizationTyp organization);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp insertNewOrganization(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp addNewOrganization();
+    
+    /**
+     * Removes the ith "organization" element
+     */
+    void removeOrganization(int i);
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray();
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i);
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    int sizeOfLocalHeaderArray();
+    
+    /**
+     * Sets array of all "local_header" element
+     */
+    void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray);
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    void removeLocalHeader(int i);
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.ProviderTyp newInstance() {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.ProviderTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.ProviderTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.ProviderTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.ProviderTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.ProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
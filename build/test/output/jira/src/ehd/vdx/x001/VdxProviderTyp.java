@@ -0,0 +1,974 @@
+/*
+ * XML Type:  vdx_provider_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VdxProviderTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * An XML vdx_provider_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public interface VdxProviderTyp extends ehd.vdx.x001.ProviderTyp
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(VdxProviderTyp.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vdxprovidertypbdb0type");
+    
+    /**
+     * Gets array of all "person" elements
+     */
+    ehd.vdx.x001.PersonTyp[] getPersonArray();
+    
+    /**
+     * Gets ith "person" element
+     */
+    ehd.vdx.x001.PersonTyp getPersonArray(int i);
+    
+    /**
+     * Returns number of "person" element
+     */
+    int sizeOfPersonArray();
+    
+    /**
+     * Sets array of all "person" element
+     */
+    void setPersonArray(ehd.vdx.x001.PersonTyp[] personArray);
+    
+    /**
+     * Sets ith "person" element
+     */
+    void setPersonArray(int i, ehd.vdx.x001.PersonTyp person);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "person" element
+     */
+    ehd.vdx.x001.PersonTyp insertNewPerson(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "person" element
+     */
+    ehd.vdx.x001.PersonTyp addNewPerson();
+    
+    /**
+     * Removes the ith "person" element
+     */
+    void removePerson(int i);
+    
+    /**
+     * Gets array of all "organization" elements
+     */
+    ehd.vdx.x001.OrganizationTyp[] getOrganizationArray();
+    
+    /**
+     * Gets ith "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp getOrganizationArray(int i);
+    
+    /**
+     * Returns number of "organization" element
+     */
+    int sizeOfOrganizationArray();
+    
+    /**
+     * Sets array of all "organization" element
+     */
+    void setOrganizationArray(ehd.vdx.x001.OrganizationTyp[] organizationArray);
+    
+    /**
+     * Sets ith "organization" element
+     */
+    void setOrganizationArray(int i, ehd.vdx.x001.OrganizationTyp organization);
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp insertNewOrganization(int i);
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization" element
+     */
+    ehd.vdx.x001.OrganizationTyp addNewOrganization();
+    
+    /**
+     * Removes the ith "organization" element
+     */
+    void removeOrganization(int i);
+    
+    /**
+     * An XML person(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Person extends ehd.vdx.x001.PersonTyp
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Person.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("person5e1felemtype");
+        
+        /**
+         * Gets array of all "local_header" elements
+         */
+        ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray();
+        
+        /**
+         * Gets ith "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i);
+        
+        /**
+         * Returns number of "local_header" element
+         */
+        int sizeOfLocalHeaderArray();
+        
+        /**
+         * Sets array of all "local_header" element
+         */
+        void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray);
+        
+        /**
+         * Sets ith "local_header" element
+         */
+        void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+        
+        /**
+         * Removes the ith "local_header" element
+         */
+        void removeLocalHeader(int i);
+        
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Id extends ehd.vdx.x001.IdTyp
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Id.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("id3756elemtype");
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            java.lang.String getEX();
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetEX();
+            
+            /**
+             * True if has "EX" attribute
+             */
+            boolean isSetEX();
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            void setEX(java.lang.String ex);
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            void xsetEX(org.apache.xmlbeans.XmlString ex);
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            void unsetEX();
+            
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Person$Id$RT.
+             */
+            public interface RT extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("rtb434attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.RT newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.RT) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.RT newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.RT newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Person$Id$EX.
+             */
+            public interface EX extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EX.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("exc9e3attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.EX newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.EX) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.EX newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.Id.EX newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.VdxProviderTyp.Person.Id newInstance() {
+                  return (ehd.vdx.x001.VdxProviderTyp.Person.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.VdxProviderTyp.Person.Id newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.VdxProviderTyp.Person.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML local_header(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface LocalHeader extends ehd.vdx.x001.LocalHeaderContModel
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LocalHeader.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("localheader1d1celemtype");
+            
+            /**
+             * Gets the "teilnahmestatus" element
+             */
+            ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus getTeilnahmestatus();
+            
+            /**
+             * Sets the "teilnahmestatus" element
+             */
+            void setTeilnahmestatus(ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus teilnahmestatus);
+            
+            /**
+             * Appends and returns a new empty "teilnahmestatus" element
+             */
+            ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus addNewTeilnahmestatus();
+            
+            /**
+             * Gets the "fachgruppe_liste" element
+             */
+            ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe getFachgruppeListe();
+            
+            /**
+             * Sets the "fachgruppe_liste" element
+             */
+            void setFachgruppeListe(ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe fachgruppeListe);
+            
+            /**
+             * Appends and returns a new empty "fachgruppe_liste" element
+             */
+            ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe addNewFachgruppeListe();
+            
+            /**
+             * Gets the "ha_fa_kennung" element
+             */
+            ehd.vdx.x001.HaFaKennungDocument.HaFaKennung getHaFaKennung();
+            
+            /**
+             * Sets the "ha_fa_kennung" element
+             */
+            void setHaFaKennung(ehd.vdx.x001.HaFaKennungDocument.HaFaKennung haFaKennung);
+            
+            /**
+             * Appends and returns a new empty "ha_fa_kennung" element
+             */
+            ehd.vdx.x001.HaFaKennungDocument.HaFaKennung addNewHaFaKennung();
+            
+            /**
+             * Gets the "ms_kennung" element
+             */
+            ehd.vdx.x001.MsKennungDocument.MsKennung getMsKennung();
+            
+            /**
+             * Sets the "ms_kennung" element
+             */
+            void setMsKennung(ehd.vdx.x001.MsKennungDocument.MsKennung msKennung);
+            
+            /**
+             * Appends and returns a new empty "ms_kennung" element
+             */
+            ehd.vdx.x001.MsKennungDocument.MsKennung addNewMsKennung();
+            
+            /**
+             * An XML fachgruppe_liste(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface FachgruppeListe extends ehd.vdx.x001.ListeIdTyp
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(FachgruppeListe.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("fachgruppelistef33delemtype");
+                
+                /**
+                 * Gets array of all "fachgruppe" elements
+                 */
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe[] getFachgruppeArray();
+                
+                /**
+                 * Gets ith "fachgruppe" element
+                 */
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe getFachgruppeArray(int i);
+                
+                /**
+                 * Returns number of "fachgruppe" element
+                 */
+                int sizeOfFachgruppeArray();
+                
+                /**
+                 * Sets array of all "fachgruppe" element
+                 */
+                void setFachgruppeArray(ehd.vdx.x001.FachgruppeDocument.Fachgruppe[] fachgruppeArray);
+                
+                /**
+                 * Sets ith "fachgruppe" element
+                 */
+                void setFachgruppeArray(int i, ehd.vdx.x001.FachgruppeDocument.Fachgruppe fachgruppe);
+                
+                /**
+                 * Inserts and returns a new empty value (as xml) as the ith "fachgruppe" element
+                 */
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe insertNewFachgruppe(int i);
+                
+                /**
+                 * Appends and returns a new empty value (as xml) as the last "fachgruppe" element
+                 */
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe addNewFachgruppe();
+                
+                /**
+                 * Removes the ith "fachgruppe" element
+                 */
+                void removeFachgruppe(int i);
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader newInstance() {
+                  return (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.VdxProviderTyp.Person newInstance() {
+              return (ehd.vdx.x001.VdxProviderTyp.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.VdxProviderTyp.Person newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.VdxProviderTyp.Person) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * An XML organization(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Organization extends ehd.vdx.x001.OrganizationTyp
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Organization.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("organizatione181elemtype");
+        
+        /**
+         * Gets the "id" element
+         */
+        ehd.vdx.x001.IdTyp getId();
+        
+        /**
+         * True if has "id" element
+         */
+        boolean isSetId();
+        
+        /**
+         * Sets the "id" element
+         */
+        void setId(ehd.vdx.x001.IdTyp id);
+        
+        /**
+         * Appends and returns a new empty "id" element
+         */
+        ehd.vdx.x001.IdTyp addNewId();
+        
+        /**
+         * Unsets the "id" element
+         */
+        void unsetId();
+        
+        /**
+         * Gets array of all "local_header" elements
+         */
+        ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray();
+        
+        /**
+         * Gets ith "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i);
+        
+        /**
+         * Returns number of "local_header" element
+         */
+        int sizeOfLocalHeaderArray();
+        
+        /**
+         * Sets array of all "local_header" element
+         */
+        void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray);
+        
+        /**
+         * Sets ith "local_header" element
+         */
+        void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "local_header" element
+         */
+        ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader();
+        
+        /**
+         * Removes the ith "local_header" element
+         */
+        void removeLocalHeader(int i);
+        
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Id extends ehd.vdx.x001.IdTyp
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Id.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("idb578elemtype");
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            java.lang.String getEX();
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetEX();
+            
+            /**
+             * True if has "EX" attribute
+             */
+            boolean isSetEX();
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            void setEX(java.lang.String ex);
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            void xsetEX(org.apache.xmlbeans.XmlString ex);
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            void unsetEX();
+            
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Organization$Id$EX.
+             */
+            public interface EX extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EX.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("ex6a45attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Organization$Id$RT.
+             */
+            public interface RT extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("rt93d6attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.VdxProviderTyp.Organization.Id newInstance() {
+                  return (ehd.vdx.x001.VdxProviderTyp.Organization.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.VdxProviderTyp.Organization.Id newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.VdxProviderTyp.Organization.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * An XML local_header(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface LocalHeader extends ehd.vdx.x001.LocalHeaderContModel
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(LocalHeader.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("localheaderaebeelemtype");
+            
+            /**
+             * Gets the "organization_type_cd" element
+             */
+            ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd getOrganizationTypeCd();
+            
+            /**
+             * Sets the "organization_type_cd" element
+             */
+            void setOrganizationTypeCd(ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd organizationTypeCd);
+            
+            /**
+             * Appends and returns a new empty "organization_type_cd" element
+             */
+            ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd addNewOrganizationTypeCd();
+            
+            /**
+             * Gets the "kbv_pruefnummer" element
+             */
+            ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer getKbvPruefnummer();
+            
+            /**
+             * Sets the "kbv_pruefnummer" element
+             */
+            void setKbvPruefnummer(ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer kbvPruefnummer);
+            
+            /**
+             * Appends and returns a new empty "kbv_pruefnummer" element
+             */
+            ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer addNewKbvPruefnummer();
+            
+            /**
+             * Gets the "regelleistungsvolumen" element
+             */
+            ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen getRegelleistungsvolumen();
+            
+            /**
+             * True if has "regelleistungsvolumen" element
+             */
+            boolean isSetRegelleistungsvolumen();
+            
+            /**
+             * Sets the "regelleistungsvolumen" element
+             */
+            void setRegelleistungsvolumen(ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen regelleistungsvolumen);
+            
+            /**
+             * Appends and returns a new empty "regelleistungsvolumen" element
+             */
+            ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen addNewRegelleistungsvolumen();
+            
+            /**
+             * Unsets the "regelleistungsvolumen" element
+             */
+            void unsetRegelleistungsvolumen();
+            
+            /**
+             * Gets the "honorargruppe_liste" element
+             */
+            ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe getHonorargruppeListe();
+            
+            /**
+             * True if has "honorargruppe_liste" element
+             */
+            boolean isSetHonorargruppeListe();
+            
+            /**
+             * Sets the "honorargruppe_liste" element
+             */
+            void setHonorargruppeListe(ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe honorargruppeListe);
+            
+            /**
+             * Appends and returns a new empty "honorargruppe_liste" element
+             */
+            ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe addNewHonorargruppeListe();
+            
+            /**
+             * Unsets the "honorargruppe_liste" element
+             */
+            void unsetHonorargruppeListe();
+            
+            /**
+             * Gets the "honorar_liste" element
+             */
+            ehd.vdx.x001.HonorarListeTyp getHonorarListe();
+            
+            /**
+             * Sets the "honorar_liste" element
+             */
+            void setHonorarListe(ehd.vdx.x001.HonorarListeTyp honorarListe);
+            
+            /**
+             * Appends and returns a new empty "honorar_liste" element
+             */
+            ehd.vdx.x001.HonorarListeTyp addNewHonorarListe();
+            
+            /**
+             * Gets the "leistungsbedarf_liste" element
+             */
+            ehd.vdx.x001.LeistungsbedarfListeTyp getLeistungsbedarfListe();
+            
+            /**
+             * Sets the "leistungsbedarf_liste" element
+             */
+            void setLeistungsbedarfListe(ehd.vdx.x001.LeistungsbedarfListeTyp leistungsbedarfListe);
+            
+            /**
+             * Appends and returns a new empty "leistungsbedarf_liste" element
+             */
+            ehd.vdx.x001.LeistungsbedarfListeTyp addNewLeistungsbedarfListe();
+            
+            /**
+             * An XML honorargruppe_liste(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public interface HonorargruppeListe extends ehd.vdx.x001.ListeIdTyp
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(HonorargruppeListe.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("honorargruppeliste4a74elemtype");
+                
+                /**
+                 * Gets array of all "honorargruppe" elements
+                 */
+                ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[] getHonorargruppeArray();
+                
+                /**
+                 * Gets ith "honorargruppe" element
+                 */
+                ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe getHonorargruppeArray(int i);
+                
+                /**
+                 * Returns number of "honorargruppe" element
+                 */
+                int sizeOfHonorargruppeArray();
+                
+                /**
+                 * Sets array of all "honorargruppe" element
+                 */
+                void setHonorargruppeArray(ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[] honorargruppeArray);
+                
+                /**
+                 * Sets ith "honorargruppe" element
+                 */
+                void setHonorargruppeArray(int i, ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe honorargruppe);
+                
+                /**
+                 * Inserts and returns a new empty value (as xml) as the ith "honorargruppe" element
+                 */
+                ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe insertNewHonorargruppe(int i);
+                
+                /**
+                 * Appends and returns a new empty value (as xml) as the last "honorargruppe" element
+                 */
+                ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe addNewHonorargruppe();
+                
+                /**
+                 * Removes the ith "honorargruppe" element
+                 */
+                void removeHonorargruppe(int i);
+                
+                /**
+                 * An XML honorargruppe(@urn:ehd/vdx/001).
+                 *
+                 * This is a complex type.
+                 */
+                public interface Honorargruppe extends org.apache.xmlbeans.XmlObject
+                {
+                    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                      org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Honorargruppe.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("honorargruppe12b2elemtype");
+                    
+                    /**
+                     * Gets the "V" attribute
+                     */
+                    java.lang.String getV();
+                    
+                    /**
+                     * Gets (as xml) the "V" attribute
+                     */
+                    org.apache.xmlbeans.XmlString xgetV();
+                    
+                    /**
+                     * Sets the "V" attribute
+                     */
+                    void setV(java.lang.String v);
+                    
+                    /**
+                     * Sets (as xml) the "V" attribute
+                     */
+                    void xsetV(org.apache.xmlbeans.XmlString v);
+                    
+                    /**
+                     * A factory class with static methods for creating instances
+                     * of this type.
+                     */
+                    
+                    public static final class Factory
+                    {
+                      public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe newInstance() {
+                        return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                      
+                      public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe newInstance(org.apache.xmlbeans.XmlOptions options) {
+                        return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                      
+                      private Factory() { } // No instance of this class allowed
+                    }
+                }
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe newInstance() {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader newInstance() {
+                  return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.VdxProviderTyp.Organization newInstance() {
+              return (ehd.vdx.x001.VdxProviderTyp.Organization) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.VdxProviderTyp.Organization newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.VdxProviderTyp.Organization) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.VdxProviderTyp newInstance() {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.VdxProviderTyp parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.VdxProviderTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.VdxProviderTyp parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.VdxProviderTyp) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * An XML document type.
+ * Localname: vorgang
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VorgangDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001;
+
+
+/**
+ * A document containing one vorgang(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public interface VorgangDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(VorgangDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vorgang5948doctype");
+    
+    /**
+     * Gets the "vorgang" element
+     */
+    ehd.vdx.x001.VorgangDocument.Vorgang getVorgang();
+    
+    /**
+     * Sets the "vorgang" element
+     */
+    void setVorgang(ehd.vdx.x001.VorgangDocument.Vorgang vorgang);
+    
+    /**
+     * Appends and returns a new empty "vorgang" element
+     */
+    ehd.vdx.x001.VorgangDocument.Vorgang addNewVorgang();
+    
+    /**
+     * An XML vorgang(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public interface Vorgang extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Vorgang.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("vorgang1820elemtype");
+        
+        /**
+         * Gets the "vdx_abrechnungsbereich" element
+         */
+        ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich getVdxAbrechnungsbereich();
+        
+        /**
+         * True if has "vdx_abrechnungsbereich" element
+         */
+        boolean isSetVdxAbrechnungsbereich();
+        
+        /**
+         * Sets the "vdx_abrechnungsbereich" element
+         */
+        void setVdxAbrechnungsbereich(ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich vdxAbrechnungsbereich);
+        
+        /**
+         * Appends and returns a new empty "vdx_abrechnungsbereich" element
+         */
+        ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich addNewVdxAbrechnungsbereich();
+        
+        /**
+         * Unsets the "vdx_abrechnungsbereich" element
+         */
+        void unsetVdxAbrechnungsbereich();
+        
+        /**
+         * Gets the "gkv_konto" element
+         */
+        ehd.vdx.x001.GkvKontoDocument.GkvKonto getGkvKonto();
+        
+        /**
+         * Sets the "gkv_konto" element
+         */
+        void setGkvKonto(ehd.vdx.x001.GkvKontoDocument.GkvKonto gkvKonto);
+        
+        /**
+         * Appends and returns a new empty "gkv_konto" element
+         */
+        ehd.vdx.x001.GkvKontoDocument.GkvKonto addNewGkvKonto();
+        
+        /**
+         * Gets the "vorgang_code" element
+         */
+        ehd.vdx.x001.VorgangCodeDocument.VorgangCode getVorgangCode();
+        
+        /**
+         * Sets the "vorgang_code" element
+         */
+        void setVorgangCode(ehd.vdx.x001.VorgangCodeDocument.VorgangCode vorgangCode);
+        
+        /**
+         * Appends and returns a new empty "vorgang_code" element
+         */
+        ehd.vdx.x001.VorgangCodeDocument.VorgangCode addNewVorgangCode();
+        
+        /**
+         * Gets the "budget_kennung" element
+         */
+        ehd.vdx.x001.BudgetKennungDocument.BudgetKennung getBudgetKennung();
+        
+        /**
+         * Sets the "budget_kennung" element
+         */
+        void setBudgetKennung(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung budgetKennung);
+        
+        /**
+         * Appends and returns a new empty "budget_kennung" element
+         */
+        ehd.vdx.x001.BudgetKennungDocument.BudgetKennung addNewBudgetKennung();
+        
+        /**
+         * Gets array of all "kv_bewertungssteuerung" elements
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] getKvBewertungssteuerungArray();
+        
+        /**
+         * Gets ith "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung getKvBewertungssteuerungArray(int i);
+        
+        /**
+         * Returns number of "kv_bewertungssteuerung" element
+         */
+        int sizeOfKvBewertungssteuerungArray();
+        
+        /**
+         * Sets array of all "kv_bewertungssteuerung" element
+         */
+        void setKvBewertungssteuerungArray(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] kvBewertungssteuerungArray);
+        
+        /**
+         * Sets ith "kv_bewertungssteuerung" element
+         */
+        void setKvBewertungssteuerungArray(int i, ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung kvBewertungssteuerung);
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung insertNewKvBewertungssteuerung(int i);
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "kv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung addNewKvBewertungssteuerung();
+        
+        /**
+         * Removes the ith "kv_bewertungssteuerung" element
+         */
+        void removeKvBewertungssteuerung(int i);
+        
+        /**
+         * Gets the "kbv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung getKbvBewertungssteuerung();
+        
+        /**
+         * True if has "kbv_bewertungssteuerung" element
+         */
+        boolean isSetKbvBewertungssteuerung();
+        
+        /**
+         * Sets the "kbv_bewertungssteuerung" element
+         */
+        void setKbvBewertungssteuerung(ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung kbvBewertungssteuerung);
+        
+        /**
+         * Appends and returns a new empty "kbv_bewertungssteuerung" element
+         */
+        ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung addNewKbvBewertungssteuerung();
+        
+        /**
+         * Unsets the "kbv_bewertungssteuerung" element
+         */
+        void unsetKbvBewertungssteuerung();
+        
+        /**
+         * Gets the "leistungsbedarf" element
+         */
+        ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf getLeistungsbedarf();
+        
+        /**
+         * True if has "leistungsbedarf" element
+         */
+        boolean isSetLeistungsbedarf();
+        
+        /**
+         * Sets the "leistungsbedarf" element
+         */
+        void setLeistungsbedarf(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf leistungsbedarf);
+        
+        /**
+         * Appends and returns a new empty "leistungsbedarf" element
+         */
+        ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf addNewLeistungsbedarf();
+        
+        /**
+         * Unsets the "leistungsbedarf" element
+         */
+        void unsetLeistungsbedarf();
+        
+        /**
+         * Gets the "verguetung" element
+         */
+        ehd.vdx.x001.VerguetungDocument.Verguetung getVerguetung();
+        
+        /**
+         * True if has "verguetung" element
+         */
+        boolean isSetVerguetung();
+        
+        /**
+         * Sets the "verguetung" element
+         */
+        void setVerguetung(ehd.vdx.x001.VerguetungDocument.Verguetung verguetung);
+        
+        /**
+         * Appends and returns a new empty "verguetung" element
+         */
+        ehd.vdx.x001.VerguetungDocument.Verguetung addNewVerguetung();
+        
+        /**
+         * Unsets the "verguetung" element
+         */
+        void unsetVerguetung();
+        
+        /**
+         * Gets the "wert" element
+         */
+        ehd.vdx.x001.WertDocument.Wert getWert();
+        
+        /**
+         * True if has "wert" element
+         */
+        boolean isSetWert();
+        
+        /**
+         * Sets the "wert" element
+         */
+        void setWert(ehd.vdx.x001.WertDocument.Wert wert);
+        
+        /**
+         * Appends and returns a new empty "wert" element
+         */
+        ehd.vdx.x001.WertDocument.Wert addNewWert();
+        
+        /**
+         * Unsets the "wert" element
+         */
+        void unsetWert();
+        
+        /**
+         * Gets the "id" element
+         */
+        ehd.vdx.x001.VorgangDocument.Vorgang.Id getId();
+        
+        /**
+         * True if has "id" element
+         */
+        boolean isSetId();
+        
+        /**
+         * Sets the "id" element
+         */
+        void setId(ehd.vdx.x001.VorgangDocument.Vorgang.Id id);
+        
+        /**
+         * Appends and returns a new empty "id" element
+         */
+        ehd.vdx.x001.VorgangDocument.Vorgang.Id addNewId();
+        
+        /**
+         * Unsets the "id" element
+         */
+        void unsetId();
+        
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public interface Id extends ehd.vdx.x001.IdTyp
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Id.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("id1857elemtype");
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            java.lang.String getEX();
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            org.apache.xmlbeans.XmlString xgetEX();
+            
+            /**
+             * True if has "EX" attribute
+             */
+            boolean isSetEX();
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            void setEX(java.lang.String ex);
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            void xsetEX(org.apache.xmlbeans.XmlString ex);
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            void unsetEX();
+            
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VorgangDocument$Vorgang$Id$EX.
+             */
+            public interface EX extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(EX.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("ex87e4attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX newInstance() {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VorgangDocument$Vorgang$Id$RT.
+             */
+            public interface RT extends org.apache.xmlbeans.XmlString
+            {
+                public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                    org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(RT.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s55D9741492995BE8ED4C485D5193301F").resolveHandle("rt5335attrtype");
+                
+                /**
+                 * A factory class with static methods for creating instances
+                 * of this type.
+                 */
+                
+                public static final class Factory
+                {
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT newValue(java.lang.Object obj) {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT) type.newValue( obj ); }
+                    
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT newInstance() {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                    
+                    public static ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT newInstance(org.apache.xmlbeans.XmlOptions options) {
+                      return (ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                    
+                    private Factory() { } // No instance of this class allowed
+                }
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static ehd.vdx.x001.VorgangDocument.Vorgang.Id newInstance() {
+                  return (ehd.vdx.x001.VorgangDocument.Vorgang.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static ehd.vdx.x001.VorgangDocument.Vorgang.Id newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (ehd.vdx.x001.VorgangDocument.Vorgang.Id) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static ehd.vdx.x001.VorgangDocument.Vorgang newInstance() {
+              return (ehd.vdx.x001.VorgangDocument.Vorgang) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static ehd.vdx.x001.VorgangDocument.Vorgang newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (ehd.vdx.x001.VorgangDocument.Vorgang) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static ehd.vdx.x001.VorgangDocument newInstance() {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static ehd.vdx.x001.VorgangDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static ehd.vdx.x001.VorgangDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.VorgangDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static ehd.vdx.x001.VorgangDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (ehd.vdx.x001.VorgangDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: addr
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.AddrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one addr(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class AddrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.AddrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AddrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ADDR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "addr");
+    
+    
+    /**
+     * Gets the "addr" element
+     */
+    public ehd.vdx.x001.AddrTyp getAddr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.AddrTyp target = null;
+            target = (ehd.vdx.x001.AddrTyp)get_store().find_element_user(ADDR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "addr" element
+     */
+    public void setAddr(ehd.vdx.x001.AddrTyp addr)
+    {
+        generatedSetterHelperImpl(addr, ADDR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "addr" element
+     */
+    public ehd.vdx.x001.AddrTyp addNewAddr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.AddrTyp target = null;
+            target = (ehd.vdx.x001.AddrTyp)get_store().add_element_user(ADDR$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,864 @@
+/*
+ * XML Type:  addr_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.AddrTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML addr_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class AddrTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.AddrTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public AddrTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "STR");
+    private static final javax.xml.namespace.QName HNR$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "HNR");
+    private static final javax.xml.namespace.QName POB$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "POB");
+    private static final javax.xml.namespace.QName ZIP$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "ZIP");
+    private static final javax.xml.namespace.QName CTY$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "CTY");
+    private static final javax.xml.namespace.QName STA$10 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "STA");
+    private static final javax.xml.namespace.QName CNT$12 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "CNT");
+    private static final javax.xml.namespace.QName ADL$14 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "ADL");
+    
+    
+    /**
+     * Gets array of all "STR" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getSTRArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(STR$0, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "STR" element
+     */
+    public ehd.vdx.x001.VStringTyp getSTRArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(STR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "STR" element
+     */
+    public int sizeOfSTRArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(STR$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "STR" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSTRArray(ehd.vdx.x001.VStringTyp[] strArray)
+    {
+        check_orphaned();
+        arraySetterHelper(strArray, STR$0);
+    }
+    
+    /**
+     * Sets ith "STR" element
+     */
+    public void setSTRArray(int i, ehd.vdx.x001.VStringTyp str)
+    {
+        generatedSetterHelperImpl(str, STR$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "STR" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewSTR(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(STR$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "STR" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewSTR()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(STR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "STR" element
+     */
+    public void removeSTR(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(STR$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "HNR" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getHNRArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(HNR$2, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "HNR" element
+     */
+    public ehd.vdx.x001.VStringTyp getHNRArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(HNR$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "HNR" element
+     */
+    public int sizeOfHNRArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HNR$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "HNR" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setHNRArray(ehd.vdx.x001.VStringTyp[] hnrArray)
+    {
+        check_orphaned();
+        arraySetterHelper(hnrArray, HNR$2);
+    }
+    
+    /**
+     * Sets ith "HNR" element
+     */
+    public void setHNRArray(int i, ehd.vdx.x001.VStringTyp hnr)
+    {
+        generatedSetterHelperImpl(hnr, HNR$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "HNR" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewHNR(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(HNR$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "HNR" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewHNR()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(HNR$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "HNR" element
+     */
+    public void removeHNR(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HNR$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "POB" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getPOBArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(POB$4, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "POB" element
+     */
+    public ehd.vdx.x001.VStringTyp getPOBArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(POB$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "POB" element
+     */
+    public int sizeOfPOBArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(POB$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "POB" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setPOBArray(ehd.vdx.x001.VStringTyp[] pobArray)
+    {
+        check_orphaned();
+        arraySetterHelper(pobArray, POB$4);
+    }
+    
+    /**
+     * Sets ith "POB" element
+     */
+    public void setPOBArray(int i, ehd.vdx.x001.VStringTyp pob)
+    {
+        generatedSetterHelperImpl(pob, POB$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "POB" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewPOB(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(POB$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "POB" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewPOB()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(POB$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "POB" element
+     */
+    public void removePOB(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(POB$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ZIP" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getZIPArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ZIP$6, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ZIP" element
+     */
+    public ehd.vdx.x001.VStringTyp getZIPArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(ZIP$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ZIP" element
+     */
+    public int sizeOfZIPArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ZIP$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "ZIP" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setZIPArray(ehd.vdx.x001.VStringTyp[] zipArray)
+    {
+        check_orphaned();
+        arraySetterHelper(zipArray, ZIP$6);
+    }
+    
+    /**
+     * Sets ith "ZIP" element
+     */
+    public void setZIPArray(int i, ehd.vdx.x001.VStringTyp zip)
+    {
+        generatedSetterHelperImpl(zip, ZIP$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ZIP" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewZIP(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(ZIP$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ZIP" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewZIP()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(ZIP$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ZIP" element
+     */
+    public void removeZIP(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ZIP$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "CTY" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getCTYArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CTY$8, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "CTY" element
+     */
+    public ehd.vdx.x001.VStringTyp getCTYArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(CTY$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "CTY" element
+     */
+    public int sizeOfCTYArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CTY$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "CTY" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCTYArray(ehd.vdx.x001.VStringTyp[] ctyArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ctyArray, CTY$8);
+    }
+    
+    /**
+     * Sets ith "CTY" element
+     */
+    public void setCTYArray(int i, ehd.vdx.x001.VStringTyp cty)
+    {
+        generatedSetterHelperImpl(cty, CTY$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "CTY" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewCTY(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(CTY$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "CTY" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewCTY()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(CTY$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "CTY" element
+     */
+    public void removeCTY(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CTY$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "STA" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getSTAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(STA$10, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "STA" element
+     */
+    public ehd.vdx.x001.VStringTyp getSTAArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(STA$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "STA" element
+     */
+    public int sizeOfSTAArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(STA$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "STA" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSTAArray(ehd.vdx.x001.VStringTyp[] staArray)
+    {
+        check_orphaned();
+        arraySetterHelper(staArray, STA$10);
+    }
+    
+    /**
+     * Sets ith "STA" element
+     */
+    public void setSTAArray(int i, ehd.vdx.x001.VStringTyp sta)
+    {
+        generatedSetterHelperImpl(sta, STA$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "STA" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewSTA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(STA$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "STA" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewSTA()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(STA$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "STA" element
+     */
+    public void removeSTA(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(STA$10, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "CNT" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getCNTArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(CNT$12, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "CNT" element
+     */
+    public ehd.vdx.x001.VStringTyp getCNTArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(CNT$12, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "CNT" element
+     */
+    public int sizeOfCNTArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(CNT$12);
+        }
+    }
+    
+    /**
+     * Sets array of all "CNT" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setCNTArray(ehd.vdx.x001.VStringTyp[] cntArray)
+    {
+        check_orphaned();
+        arraySetterHelper(cntArray, CNT$12);
+    }
+    
+    /**
+     * Sets ith "CNT" element
+     */
+    public void setCNTArray(int i, ehd.vdx.x001.VStringTyp cnt)
+    {
+        generatedSetterHelperImpl(cnt, CNT$12, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "CNT" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewCNT(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(CNT$12, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "CNT" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewCNT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(CNT$12);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "CNT" element
+     */
+    public void removeCNT(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(CNT$12, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ADL" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getADLArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ADL$14, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ADL" element
+     */
+    public ehd.vdx.x001.VStringTyp getADLArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(ADL$14, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ADL" element
+     */
+    public int sizeOfADLArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ADL$14);
+        }
+    }
+    
+    /**
+     * Sets array of all "ADL" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setADLArray(ehd.vdx.x001.VStringTyp[] adlArray)
+    {
+        check_orphaned();
+        arraySetterHelper(adlArray, ADL$14);
+    }
+    
+    /**
+     * Sets ith "ADL" element
+     */
+    public void setADLArray(int i, ehd.vdx.x001.VStringTyp adl)
+    {
+        generatedSetterHelperImpl(adl, ADL$14, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ADL" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewADL(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(ADL$14, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ADL" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewADL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(ADL$14);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ADL" element
+     */
+    public void removeADL(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ADL$14, i);
+        }
+    }
+}
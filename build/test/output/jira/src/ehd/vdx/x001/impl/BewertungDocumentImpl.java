@@ -0,0 +1,387 @@
+/*
+ * An XML document type.
+ * Localname: bewertung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.BewertungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one bewertung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class BewertungDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.BewertungDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public BewertungDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName BEWERTUNG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "bewertung");
+    
+    
+    /**
+     * Gets the "bewertung" element
+     */
+    public ehd.vdx.x001.BewertungDocument.Bewertung getBewertung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.BewertungDocument.Bewertung target = null;
+            target = (ehd.vdx.x001.BewertungDocument.Bewertung)get_store().find_element_user(BEWERTUNG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "bewertung" element
+     */
+    public void setBewertung(ehd.vdx.x001.BewertungDocument.Bewertung bewertung)
+    {
+        generatedSetterHelperImpl(bewertung, BEWERTUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "bewertung" element
+     */
+    public ehd.vdx.x001.BewertungDocument.Bewertung addNewBewertung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.BewertungDocument.Bewertung target = null;
+            target = (ehd.vdx.x001.BewertungDocument.Bewertung)get_store().add_element_user(BEWERTUNG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML bewertung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class BewertungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.BewertungDocument.Bewertung
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public BewertungImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName U$2 = 
+            new javax.xml.namespace.QName("", "U");
+        private static final javax.xml.namespace.QName DN$4 = 
+            new javax.xml.namespace.QName("", "DN");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public int getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.BewertungDocument.Bewertung.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BewertungDocument.Bewertung.V target = null;
+                target = (ehd.vdx.x001.BewertungDocument.Bewertung.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(int v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setIntValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.BewertungDocument.Bewertung.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BewertungDocument.Bewertung.V target = null;
+                target = (ehd.vdx.x001.BewertungDocument.Bewertung.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.BewertungDocument.Bewertung.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "U" attribute
+         */
+        public ehd.vdx.x001.BewertungDocument.Bewertung.U.Enum getU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (ehd.vdx.x001.BewertungDocument.Bewertung.U.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        public ehd.vdx.x001.BewertungDocument.Bewertung.U xgetU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BewertungDocument.Bewertung.U target = null;
+                target = (ehd.vdx.x001.BewertungDocument.Bewertung.U)get_store().find_attribute_user(U$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "U" attribute
+         */
+        public void setU(ehd.vdx.x001.BewertungDocument.Bewertung.U.Enum u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(U$2);
+                }
+                target.setEnumValue(u);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        public void xsetU(ehd.vdx.x001.BewertungDocument.Bewertung.U u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BewertungDocument.Bewertung.U target = null;
+                target = (ehd.vdx.x001.BewertungDocument.Bewertung.U)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.BewertungDocument.Bewertung.U)get_store().add_attribute_user(U$2);
+                }
+                target.set(u);
+            }
+        }
+        
+        /**
+         * Gets the "DN" attribute
+         */
+        public int getDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(DN$4, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(DN$4);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "DN" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(DN$4);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "DN" attribute
+         */
+        public boolean isSetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DN$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "DN" attribute
+         */
+        public void setDN(int dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DN$4);
+                }
+                target.setIntValue(dn);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "DN" attribute
+         */
+        public void xsetDN(org.apache.xmlbeans.XmlInt dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(DN$4);
+                }
+                target.set(dn);
+            }
+        }
+        
+        /**
+         * Unsets the "DN" attribute
+         */
+        public void unsetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DN$4);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.BewertungDocument$Bewertung$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements ehd.vdx.x001.BewertungDocument.Bewertung.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.BewertungDocument$Bewertung$U.
+         */
+        public static class UImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.BewertungDocument.Bewertung.U
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * XML Type:  description_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DescriptionTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML description_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class DescriptionTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DescriptionTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DescriptionTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName V$0 = 
+        new javax.xml.namespace.QName("", "V");
+    private static final javax.xml.namespace.QName URL$2 = 
+        new javax.xml.namespace.QName("", "URL");
+    
+    
+    /**
+     * Gets the "V" attribute
+     */
+    public java.lang.String getV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "V" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "V" attribute
+     */
+    public void setV(java.lang.String v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+            }
+            target.setStringValue(v);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "V" attribute
+     */
+    public void xsetV(org.apache.xmlbeans.XmlString v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(V$0);
+            }
+            target.set(v);
+        }
+    }
+    
+    /**
+     * Gets the "URL" attribute
+     */
+    public java.lang.String getURL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(URL$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "URL" attribute
+     */
+    public org.apache.xmlbeans.XmlAnyURI xgetURL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(URL$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "URL" attribute
+     */
+    public boolean isSetURL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(URL$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "URL" attribute
+     */
+    public void setURL(java.lang.String url)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(URL$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(URL$2);
+            }
+            target.setStringValue(url);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "URL" attribute
+     */
+    public void xsetURL(org.apache.xmlbeans.XmlAnyURI url)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlAnyURI target = null;
+            target = (org.apache.xmlbeans.XmlAnyURI)get_store().find_attribute_user(URL$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlAnyURI)get_store().add_attribute_user(URL$2);
+            }
+            target.set(url);
+        }
+    }
+    
+    /**
+     * Unsets the "URL" attribute
+     */
+    public void unsetURL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(URL$2);
+        }
+    }
+}
@@ -0,0 +1,1087 @@
+/*
+ * XML Type:  diagnose_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DiagnoseListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML diagnose_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class DiagnoseListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.DiagnoseListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DiagnoseListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DIAGNOSE$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "diagnose");
+    
+    
+    /**
+     * Gets array of all "diagnose" elements
+     */
+    public ehd.vdx.x001.DiagnoseListeTyp.Diagnose[] getDiagnoseArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DIAGNOSE$0, targetList);
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose[] result = new ehd.vdx.x001.DiagnoseListeTyp.Diagnose[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "diagnose" element
+     */
+    public ehd.vdx.x001.DiagnoseListeTyp.Diagnose getDiagnoseArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose target = null;
+            target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose)get_store().find_element_user(DIAGNOSE$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "diagnose" element
+     */
+    public int sizeOfDiagnoseArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DIAGNOSE$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "diagnose" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDiagnoseArray(ehd.vdx.x001.DiagnoseListeTyp.Diagnose[] diagnoseArray)
+    {
+        check_orphaned();
+        arraySetterHelper(diagnoseArray, DIAGNOSE$0);
+    }
+    
+    /**
+     * Sets ith "diagnose" element
+     */
+    public void setDiagnoseArray(int i, ehd.vdx.x001.DiagnoseListeTyp.Diagnose diagnose)
+    {
+        generatedSetterHelperImpl(diagnose, DIAGNOSE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "diagnose" element
+     */
+    public ehd.vdx.x001.DiagnoseListeTyp.Diagnose insertNewDiagnose(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose target = null;
+            target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose)get_store().insert_element_user(DIAGNOSE$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "diagnose" element
+     */
+    public ehd.vdx.x001.DiagnoseListeTyp.Diagnose addNewDiagnose()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DiagnoseListeTyp.Diagnose target = null;
+            target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose)get_store().add_element_user(DIAGNOSE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "diagnose" element
+     */
+    public void removeDiagnose(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DIAGNOSE$0, i);
+        }
+    }
+    /**
+     * An XML diagnose(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class DiagnoseImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public DiagnoseImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName DIAGNOSECODE$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "diagnose_code");
+        private static final javax.xml.namespace.QName SICHERHEIT$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "sicherheit");
+        private static final javax.xml.namespace.QName LOKALISATION$4 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "lokalisation");
+        private static final javax.xml.namespace.QName DOKUMENTATION$6 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "dokumentation");
+        
+        
+        /**
+         * Gets the "diagnose_code" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode getDiagnoseCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode)get_store().find_element_user(DIAGNOSECODE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "diagnose_code" element
+         */
+        public void setDiagnoseCode(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode diagnoseCode)
+        {
+            generatedSetterHelperImpl(diagnoseCode, DIAGNOSECODE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "diagnose_code" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode addNewDiagnoseCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode)get_store().add_element_user(DIAGNOSECODE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "sicherheit" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit getSicherheit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit)get_store().find_element_user(SICHERHEIT$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "sicherheit" element
+         */
+        public void setSicherheit(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit sicherheit)
+        {
+            generatedSetterHelperImpl(sicherheit, SICHERHEIT$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "sicherheit" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit addNewSicherheit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit)get_store().add_element_user(SICHERHEIT$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "lokalisation" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation getLokalisation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation)get_store().find_element_user(LOKALISATION$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "lokalisation" element
+         */
+        public boolean isSetLokalisation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOKALISATION$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "lokalisation" element
+         */
+        public void setLokalisation(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation lokalisation)
+        {
+            generatedSetterHelperImpl(lokalisation, LOKALISATION$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "lokalisation" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation addNewLokalisation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation)get_store().add_element_user(LOKALISATION$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "lokalisation" element
+         */
+        public void unsetLokalisation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOKALISATION$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "dokumentation" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation getDokumentation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation)get_store().find_element_user(DOKUMENTATION$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "dokumentation" element
+         */
+        public boolean isSetDokumentation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DOKUMENTATION$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "dokumentation" element
+         */
+        public void setDokumentation(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation dokumentation)
+        {
+            generatedSetterHelperImpl(dokumentation, DOKUMENTATION$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "dokumentation" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation addNewDokumentation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation)get_store().add_element_user(DOKUMENTATION$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "dokumentation" element
+         */
+        public void unsetDokumentation()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DOKUMENTATION$6, 0);
+            }
+        }
+        /**
+         * An XML diagnose_code(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class DiagnoseCodeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public DiagnoseCodeImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName V$0 = 
+                new javax.xml.namespace.QName("", "V");
+            private static final javax.xml.namespace.QName S$2 = 
+                new javax.xml.namespace.QName("", "S");
+            
+            
+            /**
+             * Gets the "V" attribute
+             */
+            public java.lang.String getV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V xgetV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V)get_store().find_attribute_user(V$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "V" attribute
+             */
+            public void setV(java.lang.String v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                    }
+                    target.setStringValue(v);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            public void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V)get_store().add_attribute_user(V$0);
+                    }
+                    target.set(v);
+                }
+            }
+            
+            /**
+             * Gets the "S" attribute
+             */
+            public java.lang.String getS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                    }
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "S" attribute
+             */
+            public boolean isSetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(S$2) != null;
+                }
+            }
+            
+            /**
+             * Sets the "S" attribute
+             */
+            public void setS(java.lang.String s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                    }
+                    target.setStringValue(s);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            public void xsetS(org.apache.xmlbeans.XmlString s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                    }
+                    target.set(s);
+                }
+            }
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            public void unsetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(S$2);
+                }
+            }
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$DiagnoseCode$V.
+             */
+            public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.DiagnoseCode.V
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+        /**
+         * An XML sicherheit(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class SicherheitImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public SicherheitImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName V$0 = 
+                new javax.xml.namespace.QName("", "V");
+            private static final javax.xml.namespace.QName S$2 = 
+                new javax.xml.namespace.QName("", "S");
+            
+            
+            /**
+             * Gets the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V.Enum getV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V.Enum)target.getEnumValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V xgetV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V)get_store().find_attribute_user(V$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "V" attribute
+             */
+            public void setV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V.Enum v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                    }
+                    target.setEnumValue(v);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            public void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V)get_store().add_attribute_user(V$0);
+                    }
+                    target.set(v);
+                }
+            }
+            
+            /**
+             * Gets the "S" attribute
+             */
+            public java.lang.String getS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                    }
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "S" attribute
+             */
+            public boolean isSetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(S$2) != null;
+                }
+            }
+            
+            /**
+             * Sets the "S" attribute
+             */
+            public void setS(java.lang.String s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                    }
+                    target.setStringValue(s);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            public void xsetS(org.apache.xmlbeans.XmlString s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                    }
+                    target.set(s);
+                }
+            }
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            public void unsetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(S$2);
+                }
+            }
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Sicherheit$V.
+             */
+            public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Sicherheit.V
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+        /**
+         * An XML lokalisation(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class LokalisationImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public LokalisationImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName V$0 = 
+                new javax.xml.namespace.QName("", "V");
+            private static final javax.xml.namespace.QName S$2 = 
+                new javax.xml.namespace.QName("", "S");
+            
+            
+            /**
+             * Gets the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V.Enum getV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V.Enum)target.getEnumValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V xgetV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V)get_store().find_attribute_user(V$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "V" attribute
+             */
+            public void setV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V.Enum v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                    }
+                    target.setEnumValue(v);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            public void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V)get_store().add_attribute_user(V$0);
+                    }
+                    target.set(v);
+                }
+            }
+            
+            /**
+             * Gets the "S" attribute
+             */
+            public java.lang.String getS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                    }
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "S" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "S" attribute
+             */
+            public boolean isSetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(S$2) != null;
+                }
+            }
+            
+            /**
+             * Sets the "S" attribute
+             */
+            public void setS(java.lang.String s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                    }
+                    target.setStringValue(s);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "S" attribute
+             */
+            public void xsetS(org.apache.xmlbeans.XmlString s)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                    }
+                    target.set(s);
+                }
+            }
+            
+            /**
+             * Unsets the "S" attribute
+             */
+            public void unsetS()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(S$2);
+                }
+            }
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Lokalisation$V.
+             */
+            public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Lokalisation.V
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+        /**
+         * An XML dokumentation(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class DokumentationImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public DokumentationImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName V$0 = 
+                new javax.xml.namespace.QName("", "V");
+            
+            
+            /**
+             * Gets the "V" attribute
+             */
+            public java.lang.String getV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "V" attribute
+             */
+            public ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V xgetV()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V)get_store().find_attribute_user(V$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "V" attribute
+             */
+            public void setV(java.lang.String v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                    }
+                    target.setStringValue(v);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "V" attribute
+             */
+            public void xsetV(ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V v)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V target = null;
+                    target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V)get_store().find_attribute_user(V$0);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V)get_store().add_attribute_user(V$0);
+                    }
+                    target.set(v);
+                }
+            }
+            /**
+             * An XML V(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.DiagnoseListeTyp$Diagnose$Dokumentation$V.
+             */
+            public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.DiagnoseListeTyp.Diagnose.Dokumentation.V
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  doc_id_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DocIdTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML doc_id_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class DocIdTypImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.DocIdTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocIdTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
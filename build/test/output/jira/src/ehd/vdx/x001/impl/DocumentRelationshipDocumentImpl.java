@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: document_relationship
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DocumentRelationshipDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one document_relationship(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class DocumentRelationshipDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DocumentRelationshipDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocumentRelationshipDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOCUMENTRELATIONSHIP$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "document_relationship");
+    
+    
+    /**
+     * Gets the "document_relationship" element
+     */
+    public ehd.vdx.x001.DocumentRelationshipTyp getDocumentRelationship()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentRelationshipTyp target = null;
+            target = (ehd.vdx.x001.DocumentRelationshipTyp)get_store().find_element_user(DOCUMENTRELATIONSHIP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "document_relationship" element
+     */
+    public void setDocumentRelationship(ehd.vdx.x001.DocumentRelationshipTyp documentRelationship)
+    {
+        generatedSetterHelperImpl(documentRelationship, DOCUMENTRELATIONSHIP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "document_relationship" element
+     */
+    public ehd.vdx.x001.DocumentRelationshipTyp addNewDocumentRelationship()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentRelationshipTyp target = null;
+            target = (ehd.vdx.x001.DocumentRelationshipTyp)get_store().add_element_user(DOCUMENTRELATIONSHIP$0);
+            return target;
+        }
+    }
+}
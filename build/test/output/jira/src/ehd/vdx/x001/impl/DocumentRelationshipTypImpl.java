@@ -0,0 +1,213 @@
+/*
+ * XML Type:  document_relationship_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DocumentRelationshipTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML document_relationship_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class DocumentRelationshipTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DocumentRelationshipTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocumentRelationshipTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOCUMENTRELATIONSHIPTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "document_relationship.type_cd");
+    private static final javax.xml.namespace.QName RELATEDDOCUMENT$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "related_document");
+    private static final javax.xml.namespace.QName LOCALHEADER$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "document_relationship.type_cd" element
+     */
+    public ehd.vdx.x001.DocumentRelationshipTypeCdTyp getDocumentRelationshipTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentRelationshipTypeCdTyp target = null;
+            target = (ehd.vdx.x001.DocumentRelationshipTypeCdTyp)get_store().find_element_user(DOCUMENTRELATIONSHIPTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "document_relationship.type_cd" element
+     */
+    public void setDocumentRelationshipTypeCd(ehd.vdx.x001.DocumentRelationshipTypeCdTyp documentRelationshipTypeCd)
+    {
+        generatedSetterHelperImpl(documentRelationshipTypeCd, DOCUMENTRELATIONSHIPTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "document_relationship.type_cd" element
+     */
+    public ehd.vdx.x001.DocumentRelationshipTypeCdTyp addNewDocumentRelationshipTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentRelationshipTypeCdTyp target = null;
+            target = (ehd.vdx.x001.DocumentRelationshipTypeCdTyp)get_store().add_element_user(DOCUMENTRELATIONSHIPTYPECD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "related_document" element
+     */
+    public ehd.vdx.x001.RelatedDocumentTyp getRelatedDocument()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RelatedDocumentTyp target = null;
+            target = (ehd.vdx.x001.RelatedDocumentTyp)get_store().find_element_user(RELATEDDOCUMENT$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "related_document" element
+     */
+    public void setRelatedDocument(ehd.vdx.x001.RelatedDocumentTyp relatedDocument)
+    {
+        generatedSetterHelperImpl(relatedDocument, RELATEDDOCUMENT$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "related_document" element
+     */
+    public ehd.vdx.x001.RelatedDocumentTyp addNewRelatedDocument()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RelatedDocumentTyp target = null;
+            target = (ehd.vdx.x001.RelatedDocumentTyp)get_store().add_element_user(RELATEDDOCUMENT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$4, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$4);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$4, i);
+        }
+    }
+}
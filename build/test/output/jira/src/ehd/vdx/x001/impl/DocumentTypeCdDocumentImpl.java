@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: document_type_cd
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.DocumentTypeCdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one document_type_cd(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class DocumentTypeCdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.DocumentTypeCdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DocumentTypeCdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName DOCUMENTTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "document_type_cd");
+    
+    
+    /**
+     * Gets the "document_type_cd" element
+     */
+    public ehd.vdx.x001.DocumentTypeCdTyp getDocumentTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentTypeCdTyp target = null;
+            target = (ehd.vdx.x001.DocumentTypeCdTyp)get_store().find_element_user(DOCUMENTTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "document_type_cd" element
+     */
+    public void setDocumentTypeCd(ehd.vdx.x001.DocumentTypeCdTyp documentTypeCd)
+    {
+        generatedSetterHelperImpl(documentTypeCd, DOCUMENTTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "document_type_cd" element
+     */
+    public ehd.vdx.x001.DocumentTypeCdTyp addNewDocumentTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DocumentTypeCdTyp target = null;
+            target = (ehd.vdx.x001.DocumentTypeCdTyp)get_store().add_element_user(DOCUMENTTYPECD$0);
+            return target;
+        }
+    }
+}
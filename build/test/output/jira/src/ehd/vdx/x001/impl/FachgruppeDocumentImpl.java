@@ -0,0 +1,274 @@
+/*
+ * An XML document type.
+ * Localname: fachgruppe
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FachgruppeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one fachgruppe(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class FachgruppeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FachgruppeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FachgruppeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FACHGRUPPE$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "fachgruppe");
+    
+    
+    /**
+     * Gets the "fachgruppe" element
+     */
+    public ehd.vdx.x001.FachgruppeDocument.Fachgruppe getFachgruppe()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FachgruppeDocument.Fachgruppe target = null;
+            target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe)get_store().find_element_user(FACHGRUPPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "fachgruppe" element
+     */
+    public void setFachgruppe(ehd.vdx.x001.FachgruppeDocument.Fachgruppe fachgruppe)
+    {
+        generatedSetterHelperImpl(fachgruppe, FACHGRUPPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "fachgruppe" element
+     */
+    public ehd.vdx.x001.FachgruppeDocument.Fachgruppe addNewFachgruppe()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FachgruppeDocument.Fachgruppe target = null;
+            target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe)get_store().add_element_user(FACHGRUPPE$0);
+            return target;
+        }
+    }
+    /**
+     * An XML fachgruppe(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class FachgruppeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FachgruppeDocument.Fachgruppe
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public FachgruppeImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName S$2 = 
+            new javax.xml.namespace.QName("", "S");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V target = null;
+                target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V target = null;
+                target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "S" attribute
+         */
+        public java.lang.String getS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                }
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "S" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "S" attribute
+         */
+        public boolean isSetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(S$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "S" attribute
+         */
+        public void setS(java.lang.String s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                }
+                target.setStringValue(s);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "S" attribute
+         */
+        public void xsetS(org.apache.xmlbeans.XmlString s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                }
+                target.set(s);
+            }
+        }
+        
+        /**
+         * Unsets the "S" attribute
+         */
+        public void unsetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(S$2);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.FachgruppeDocument$Fachgruppe$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FachgruppeDocument.Fachgruppe.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,1527 @@
+/*
+ * An XML document type.
+ * Localname: fall_id
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FallIdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one fall_id(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class FallIdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FallIdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FALLID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "fall_id");
+    
+    
+    /**
+     * Gets the "fall_id" element
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId getFallId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FallIdDocument.FallId target = null;
+            target = (ehd.vdx.x001.FallIdDocument.FallId)get_store().find_element_user(FALLID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "fall_id" element
+     */
+    public void setFallId(ehd.vdx.x001.FallIdDocument.FallId fallId)
+    {
+        generatedSetterHelperImpl(fallId, FALLID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "fall_id" element
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId addNewFallId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FallIdDocument.FallId target = null;
+            target = (ehd.vdx.x001.FallIdDocument.FallId)get_store().add_element_user(FALLID$0);
+            return target;
+        }
+    }
+    /**
+     * An XML fall_id(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class FallIdImpl extends ehd.vdx.x001.impl.VdxIdTypImpl implements ehd.vdx.x001.FallIdDocument.FallId
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public FallIdImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName PATIENTID$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "patient_id");
+        private static final javax.xml.namespace.QName SCHEINLISTE$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "schein_liste");
+        
+        
+        /**
+         * Gets the "patient_id" element
+         */
+        public ehd.vdx.x001.FallIdDocument.FallId.PatientId getPatientId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId target = null;
+                target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId)get_store().find_element_user(PATIENTID$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "patient_id" element
+         */
+        public void setPatientId(ehd.vdx.x001.FallIdDocument.FallId.PatientId patientId)
+        {
+            generatedSetterHelperImpl(patientId, PATIENTID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "patient_id" element
+         */
+        public ehd.vdx.x001.FallIdDocument.FallId.PatientId addNewPatientId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FallIdDocument.FallId.PatientId target = null;
+                target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId)get_store().add_element_user(PATIENTID$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "schein_liste" element
+         */
+        public ehd.vdx.x001.ScheinListeTyp getScheinListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ScheinListeTyp target = null;
+                target = (ehd.vdx.x001.ScheinListeTyp)get_store().find_element_user(SCHEINLISTE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "schein_liste" element
+         */
+        public void setScheinListe(ehd.vdx.x001.ScheinListeTyp scheinListe)
+        {
+            generatedSetterHelperImpl(scheinListe, SCHEINLISTE$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "schein_liste" element
+         */
+        public ehd.vdx.x001.ScheinListeTyp addNewScheinListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ScheinListeTyp target = null;
+                target = (ehd.vdx.x001.ScheinListeTyp)get_store().add_element_user(SCHEINLISTE$2);
+                return target;
+            }
+        }
+        /**
+         * An XML patient_id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class PatientIdImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public PatientIdImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName VKNR$0 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "vknr");
+            private static final javax.xml.namespace.QName VDXABRECHNUNGSBEREICH$2 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "vdx_abrechnungsbereich");
+            private static final javax.xml.namespace.QName GESCHLECHT$4 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "geschlecht");
+            private static final javax.xml.namespace.QName GEBURTSDATUM$6 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "geburtsdatum");
+            private static final javax.xml.namespace.QName VERSICHERTENSTATUS$8 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "versichertenstatus");
+            private static final javax.xml.namespace.QName STATUSERGAENZUNG$10 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "statusergaenzung");
+            private static final javax.xml.namespace.QName BEHANDLUNGSTAGE$12 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "behandlungstage");
+            private static final javax.xml.namespace.QName RT$14 = 
+                new javax.xml.namespace.QName("", "RT");
+            private static final javax.xml.namespace.QName EX$16 = 
+                new javax.xml.namespace.QName("", "EX");
+            
+            
+            /**
+             * Gets the "vknr" element
+             */
+            public ehd.vdx.x001.VknrDocument.Vknr getVknr()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VknrDocument.Vknr target = null;
+                    target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().find_element_user(VKNR$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "vknr" element
+             */
+            public void setVknr(ehd.vdx.x001.VknrDocument.Vknr vknr)
+            {
+                generatedSetterHelperImpl(vknr, VKNR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "vknr" element
+             */
+            public ehd.vdx.x001.VknrDocument.Vknr addNewVknr()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VknrDocument.Vknr target = null;
+                    target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().add_element_user(VKNR$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "vdx_abrechnungsbereich" element
+             */
+            public ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich getVdxAbrechnungsbereich()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich target = null;
+                    target = (ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich)get_store().find_element_user(VDXABRECHNUNGSBEREICH$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "vdx_abrechnungsbereich" element
+             */
+            public void setVdxAbrechnungsbereich(ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich vdxAbrechnungsbereich)
+            {
+                generatedSetterHelperImpl(vdxAbrechnungsbereich, VDXABRECHNUNGSBEREICH$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "vdx_abrechnungsbereich" element
+             */
+            public ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich addNewVdxAbrechnungsbereich()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich target = null;
+                    target = (ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich)get_store().add_element_user(VDXABRECHNUNGSBEREICH$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "geschlecht" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht getGeschlecht()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht)get_store().find_element_user(GESCHLECHT$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "geschlecht" element
+             */
+            public void setGeschlecht(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht geschlecht)
+            {
+                generatedSetterHelperImpl(geschlecht, GESCHLECHT$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "geschlecht" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht addNewGeschlecht()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht)get_store().add_element_user(GESCHLECHT$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "geburtsdatum" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum getGeburtsdatum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum)get_store().find_element_user(GEBURTSDATUM$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "geburtsdatum" element
+             */
+            public void setGeburtsdatum(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum geburtsdatum)
+            {
+                generatedSetterHelperImpl(geburtsdatum, GEBURTSDATUM$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "geburtsdatum" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum addNewGeburtsdatum()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum)get_store().add_element_user(GEBURTSDATUM$6);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "versichertenstatus" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus getVersichertenstatus()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus)get_store().find_element_user(VERSICHERTENSTATUS$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "versichertenstatus" element
+             */
+            public void setVersichertenstatus(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus versichertenstatus)
+            {
+                generatedSetterHelperImpl(versichertenstatus, VERSICHERTENSTATUS$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "versichertenstatus" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus addNewVersichertenstatus()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus)get_store().add_element_user(VERSICHERTENSTATUS$8);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "statusergaenzung" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung getStatusergaenzung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung)get_store().find_element_user(STATUSERGAENZUNG$10, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "statusergaenzung" element
+             */
+            public void setStatusergaenzung(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung statusergaenzung)
+            {
+                generatedSetterHelperImpl(statusergaenzung, STATUSERGAENZUNG$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "statusergaenzung" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung addNewStatusergaenzung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung)get_store().add_element_user(STATUSERGAENZUNG$10);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "behandlungstage" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage getBehandlungstage()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage)get_store().find_element_user(BEHANDLUNGSTAGE$12, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "behandlungstage" element
+             */
+            public boolean isSetBehandlungstage()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(BEHANDLUNGSTAGE$12) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "behandlungstage" element
+             */
+            public void setBehandlungstage(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage behandlungstage)
+            {
+                generatedSetterHelperImpl(behandlungstage, BEHANDLUNGSTAGE$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "behandlungstage" element
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage addNewBehandlungstage()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage)get_store().add_element_user(BEHANDLUNGSTAGE$12);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "behandlungstage" element
+             */
+            public void unsetBehandlungstage()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(BEHANDLUNGSTAGE$12, 0);
+                }
+            }
+            
+            /**
+             * Gets the "RT" attribute
+             */
+            public java.lang.String getRT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$14);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "RT" attribute
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT xgetRT()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT)get_store().find_attribute_user(RT$14);
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "RT" attribute
+             */
+            public void setRT(java.lang.String rt)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$14);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RT$14);
+                    }
+                    target.setStringValue(rt);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "RT" attribute
+             */
+            public void xsetRT(ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT rt)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT)get_store().find_attribute_user(RT$14);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT)get_store().add_attribute_user(RT$14);
+                    }
+                    target.set(rt);
+                }
+            }
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            public java.lang.String getEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$16);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            public ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX xgetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX)get_store().find_attribute_user(EX$16);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "EX" attribute
+             */
+            public boolean isSetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(EX$16) != null;
+                }
+            }
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            public void setEX(java.lang.String ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$16);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$16);
+                    }
+                    target.setStringValue(ex);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            public void xsetEX(ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX target = null;
+                    target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX)get_store().find_attribute_user(EX$16);
+                    if (target == null)
+                    {
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX)get_store().add_attribute_user(EX$16);
+                    }
+                    target.set(ex);
+                }
+            }
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            public void unsetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(EX$16);
+                }
+            }
+            /**
+             * An XML geschlecht(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class GeschlechtImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public GeschlechtImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName S$2 = 
+                    new javax.xml.namespace.QName("", "S");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                public java.lang.String getS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                      }
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                public boolean isSetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(S$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                public void setS(java.lang.String s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                      }
+                      target.setStringValue(s);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                public void xsetS(org.apache.xmlbeans.XmlString s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                      }
+                      target.set(s);
+                    }
+                }
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                public void unsetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(S$2);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Geschlecht$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geschlecht.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML geburtsdatum(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class GeburtsdatumImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Geburtsdatum
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public GeburtsdatumImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.util.Calendar getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getCalendarValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public org.apache.xmlbeans.XmlDate xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlDate target = null;
+                      target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.util.Calendar v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setCalendarValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(org.apache.xmlbeans.XmlDate v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlDate target = null;
+                      target = (org.apache.xmlbeans.XmlDate)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlDate)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+            }
+            /**
+             * An XML versichertenstatus(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class VersichertenstatusImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VersichertenstatusImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName S$2 = 
+                    new javax.xml.namespace.QName("", "S");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                public java.lang.String getS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                      }
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                public boolean isSetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(S$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                public void setS(java.lang.String s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                      }
+                      target.setStringValue(s);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                public void xsetS(org.apache.xmlbeans.XmlString s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                      }
+                      target.set(s);
+                    }
+                }
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                public void unsetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(S$2);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Versichertenstatus$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Versichertenstatus.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML statusergaenzung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class StatusergaenzungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public StatusergaenzungImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName S$2 = 
+                    new javax.xml.namespace.QName("", "S");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                public java.lang.String getS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                      }
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                public boolean isSetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(S$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                public void setS(java.lang.String s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                      }
+                      target.setStringValue(s);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                public void xsetS(org.apache.xmlbeans.XmlString s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                      }
+                      target.set(s);
+                    }
+                }
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                public void unsetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(S$2);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Statusergaenzung$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Statusergaenzung.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML behandlungstage(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class BehandlungstageImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public BehandlungstageImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public int getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                      if (text != null)
+                      {
+                        try
+                        {
+                          return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                        }
+                        catch (java.lang.RuntimeException e)
+                        {
+                          // not a valid value, the error comes from the target
+                        }
+                      }
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return 0;
+                      }
+                      return target.getIntValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(int v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setIntValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V target = null;
+                      target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$Behandlungstage$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.Behandlungstage.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$RT.
+             */
+            public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.RT
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public RTImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.FallIdDocument$FallId$PatientId$EX.
+             */
+            public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.FallIdDocument.FallId.PatientId.EX
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public EXImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+    }
+}
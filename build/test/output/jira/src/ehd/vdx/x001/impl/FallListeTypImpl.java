@@ -0,0 +1,129 @@
+/*
+ * XML Type:  fall_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FallListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML fall_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class FallListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.FallListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FallListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FALLID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "fall_id");
+    
+    
+    /**
+     * Gets array of all "fall_id" elements
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId[] getFallIdArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(FALLID$0, targetList);
+            ehd.vdx.x001.FallIdDocument.FallId[] result = new ehd.vdx.x001.FallIdDocument.FallId[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "fall_id" element
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId getFallIdArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FallIdDocument.FallId target = null;
+            target = (ehd.vdx.x001.FallIdDocument.FallId)get_store().find_element_user(FALLID$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "fall_id" element
+     */
+    public int sizeOfFallIdArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FALLID$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "fall_id" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setFallIdArray(ehd.vdx.x001.FallIdDocument.FallId[] fallIdArray)
+    {
+        check_orphaned();
+        arraySetterHelper(fallIdArray, FALLID$0);
+    }
+    
+    /**
+     * Sets ith "fall_id" element
+     */
+    public void setFallIdArray(int i, ehd.vdx.x001.FallIdDocument.FallId fallId)
+    {
+        generatedSetterHelperImpl(fallId, FALLID$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "fall_id" element
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId insertNewFallId(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FallIdDocument.FallId target = null;
+            target = (ehd.vdx.x001.FallIdDocument.FallId)get_store().insert_element_user(FALLID$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "fall_id" element
+     */
+    public ehd.vdx.x001.FallIdDocument.FallId addNewFallId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FallIdDocument.FallId target = null;
+            target = (ehd.vdx.x001.FallIdDocument.FallId)get_store().add_element_user(FALLID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "fall_id" element
+     */
+    public void removeFallId(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FALLID$0, i);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: function_cd
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FunctionCdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one function_cd(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class FunctionCdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.FunctionCdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FunctionCdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName FUNCTIONCD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "function_cd");
+    
+    
+    /**
+     * Gets the "function_cd" element
+     */
+    public ehd.vdx.x001.FunctionCdTyp getFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FunctionCdTyp target = null;
+            target = (ehd.vdx.x001.FunctionCdTyp)get_store().find_element_user(FUNCTIONCD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "function_cd" element
+     */
+    public void setFunctionCd(ehd.vdx.x001.FunctionCdTyp functionCd)
+    {
+        generatedSetterHelperImpl(functionCd, FUNCTIONCD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "function_cd" element
+     */
+    public ehd.vdx.x001.FunctionCdTyp addNewFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FunctionCdTyp target = null;
+            target = (ehd.vdx.x001.FunctionCdTyp)get_store().add_element_user(FUNCTIONCD$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * XML Type:  function_cd_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.FunctionCdTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML function_cd_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class FunctionCdTypImpl extends ehd.vdx.x001.impl.VSStringTypImpl implements ehd.vdx.x001.FunctionCdTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public FunctionCdTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName S$0 = 
+        new javax.xml.namespace.QName("", "S");
+    
+    
+    /**
+     * Gets the "S" attribute
+     */
+    public java.lang.String getS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "S" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "S" attribute
+     */
+    public boolean isSetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(S$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "S" attribute
+     */
+    public void setS(java.lang.String s)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$0);
+            }
+            target.setStringValue(s);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "S" attribute
+     */
+    public void xsetS(org.apache.xmlbeans.XmlString s)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$0);
+            }
+            target.set(s);
+        }
+    }
+    
+    /**
+     * Unsets the "S" attribute
+     */
+    public void unsetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(S$0);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: group
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.GroupDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one group(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class GroupDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.GroupDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GroupDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GROUP$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "group");
+    
+    
+    /**
+     * Gets the "group" element
+     */
+    public ehd.vdx.x001.GroupTyp getGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.GroupTyp target = null;
+            target = (ehd.vdx.x001.GroupTyp)get_store().find_element_user(GROUP$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "group" element
+     */
+    public void setGroup(ehd.vdx.x001.GroupTyp group)
+    {
+        generatedSetterHelperImpl(group, GROUP$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "group" element
+     */
+    public ehd.vdx.x001.GroupTyp addNewGroup()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.GroupTyp target = null;
+            target = (ehd.vdx.x001.GroupTyp)get_store().add_element_user(GROUP$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * XML Type:  group_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.GroupTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML group_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class GroupTypImpl extends ehd.vdx.x001.impl.VSStringTypImpl implements ehd.vdx.x001.GroupTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GroupTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GROUPTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "group.type_cd");
+    
+    
+    /**
+     * Gets the "group.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp getGroupTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().find_element_user(GROUPTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "group.type_cd" element
+     */
+    public void setGroupTypeCd(ehd.vdx.x001.VSStringTyp groupTypeCd)
+    {
+        generatedSetterHelperImpl(groupTypeCd, GROUPTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "group.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp addNewGroupTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().add_element_user(GROUPTYPECD$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: group.type_cd
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.GroupTypeCdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one group.type_cd(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class GroupTypeCdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.GroupTypeCdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GroupTypeCdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GROUPTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "group.type_cd");
+    
+    
+    /**
+     * Gets the "group.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp getGroupTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().find_element_user(GROUPTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "group.type_cd" element
+     */
+    public void setGroupTypeCd(ehd.vdx.x001.VSStringTyp groupTypeCd)
+    {
+        generatedSetterHelperImpl(groupTypeCd, GROUPTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "group.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp addNewGroupTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().add_element_user(GROUPTYPECD$0);
+            return target;
+        }
+    }
+}
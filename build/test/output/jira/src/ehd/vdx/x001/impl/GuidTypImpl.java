@@ -0,0 +1,27 @@
+/*
+ * XML Type:  guid_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.GuidTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML guid_typ(@urn:ehd/vdx/001).
+ *
+ * This is an atomic type that is a restriction of ehd.vdx.x001.GuidTyp.
+ */
+public class GuidTypImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.GuidTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public GuidTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected GuidTypImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
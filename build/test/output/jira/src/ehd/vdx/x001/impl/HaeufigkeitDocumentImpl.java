@@ -0,0 +1,184 @@
+/*
+ * An XML document type.
+ * Localname: haeufigkeit
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.HaeufigkeitDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one haeufigkeit(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class HaeufigkeitDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.HaeufigkeitDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HaeufigkeitDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName HAEUFIGKEIT$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "haeufigkeit");
+    
+    
+    /**
+     * Gets the "haeufigkeit" element
+     */
+    public ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit getHaeufigkeit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit target = null;
+            target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit)get_store().find_element_user(HAEUFIGKEIT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "haeufigkeit" element
+     */
+    public void setHaeufigkeit(ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit haeufigkeit)
+    {
+        generatedSetterHelperImpl(haeufigkeit, HAEUFIGKEIT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "haeufigkeit" element
+     */
+    public ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit addNewHaeufigkeit()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit target = null;
+            target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit)get_store().add_element_user(HAEUFIGKEIT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML haeufigkeit(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class HaeufigkeitImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public HaeufigkeitImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public int getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V target = null;
+                target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(int v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setIntValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V target = null;
+                target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.HaeufigkeitDocument$Haeufigkeit$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
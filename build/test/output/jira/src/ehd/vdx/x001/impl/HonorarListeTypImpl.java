@@ -0,0 +1,759 @@
+/*
+ * XML Type:  honorar_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.HonorarListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML honorar_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class HonorarListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.HonorarListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public HonorarListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KTHONORAR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "kt_honorar");
+    private static final javax.xml.namespace.QName MSHONORAR$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "ms_honorar");
+    private static final javax.xml.namespace.QName HONORARKORREKTUREN$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "honorarkorrekturen");
+    
+    
+    /**
+     * Gets array of all "kt_honorar" elements
+     */
+    public ehd.vdx.x001.HonorarListeTyp.KtHonorar[] getKtHonorarArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(KTHONORAR$0, targetList);
+            ehd.vdx.x001.HonorarListeTyp.KtHonorar[] result = new ehd.vdx.x001.HonorarListeTyp.KtHonorar[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "kt_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.KtHonorar getKtHonorarArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.KtHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.KtHonorar)get_store().find_element_user(KTHONORAR$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "kt_honorar" element
+     */
+    public int sizeOfKtHonorarArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(KTHONORAR$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "kt_honorar" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setKtHonorarArray(ehd.vdx.x001.HonorarListeTyp.KtHonorar[] ktHonorarArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ktHonorarArray, KTHONORAR$0);
+    }
+    
+    /**
+     * Sets ith "kt_honorar" element
+     */
+    public void setKtHonorarArray(int i, ehd.vdx.x001.HonorarListeTyp.KtHonorar ktHonorar)
+    {
+        generatedSetterHelperImpl(ktHonorar, KTHONORAR$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "kt_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.KtHonorar insertNewKtHonorar(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.KtHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.KtHonorar)get_store().insert_element_user(KTHONORAR$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "kt_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.KtHonorar addNewKtHonorar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.KtHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.KtHonorar)get_store().add_element_user(KTHONORAR$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "kt_honorar" element
+     */
+    public void removeKtHonorar(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(KTHONORAR$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ms_honorar" elements
+     */
+    public ehd.vdx.x001.HonorarListeTyp.MsHonorar[] getMsHonorarArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MSHONORAR$2, targetList);
+            ehd.vdx.x001.HonorarListeTyp.MsHonorar[] result = new ehd.vdx.x001.HonorarListeTyp.MsHonorar[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ms_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.MsHonorar getMsHonorarArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.MsHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.MsHonorar)get_store().find_element_user(MSHONORAR$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ms_honorar" element
+     */
+    public int sizeOfMsHonorarArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MSHONORAR$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "ms_honorar" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMsHonorarArray(ehd.vdx.x001.HonorarListeTyp.MsHonorar[] msHonorarArray)
+    {
+        check_orphaned();
+        arraySetterHelper(msHonorarArray, MSHONORAR$2);
+    }
+    
+    /**
+     * Sets ith "ms_honorar" element
+     */
+    public void setMsHonorarArray(int i, ehd.vdx.x001.HonorarListeTyp.MsHonorar msHonorar)
+    {
+        generatedSetterHelperImpl(msHonorar, MSHONORAR$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ms_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.MsHonorar insertNewMsHonorar(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.MsHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.MsHonorar)get_store().insert_element_user(MSHONORAR$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ms_honorar" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.MsHonorar addNewMsHonorar()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.MsHonorar target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.MsHonorar)get_store().add_element_user(MSHONORAR$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ms_honorar" element
+     */
+    public void removeMsHonorar(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MSHONORAR$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "honorarkorrekturen" elements
+     */
+    public ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[] getHonorarkorrekturenArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(HONORARKORREKTUREN$4, targetList);
+            ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[] result = new ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "honorarkorrekturen" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen getHonorarkorrekturenArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen)get_store().find_element_user(HONORARKORREKTUREN$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "honorarkorrekturen" element
+     */
+    public int sizeOfHonorarkorrekturenArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(HONORARKORREKTUREN$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "honorarkorrekturen" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setHonorarkorrekturenArray(ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen[] honorarkorrekturenArray)
+    {
+        check_orphaned();
+        arraySetterHelper(honorarkorrekturenArray, HONORARKORREKTUREN$4);
+    }
+    
+    /**
+     * Sets ith "honorarkorrekturen" element
+     */
+    public void setHonorarkorrekturenArray(int i, ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen honorarkorrekturen)
+    {
+        generatedSetterHelperImpl(honorarkorrekturen, HONORARKORREKTUREN$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "honorarkorrekturen" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen insertNewHonorarkorrekturen(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen)get_store().insert_element_user(HONORARKORREKTUREN$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "honorarkorrekturen" element
+     */
+    public ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen addNewHonorarkorrekturen()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen target = null;
+            target = (ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen)get_store().add_element_user(HONORARKORREKTUREN$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "honorarkorrekturen" element
+     */
+    public void removeHonorarkorrekturen(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(HONORARKORREKTUREN$4, i);
+        }
+    }
+    /**
+     * An XML kt_honorar(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class KtHonorarImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.HonorarListeTyp.KtHonorar
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public KtHonorarImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName KTKENNUNG$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kt_kennung");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().find_element_user(KTKENNUNG$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        public void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung)
+        {
+            generatedSetterHelperImpl(ktKennung, KTKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().add_element_user(KTKENNUNG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+    }
+    /**
+     * An XML ms_honorar(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class MsHonorarImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.HonorarListeTyp.MsHonorar
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MsHonorarImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LBHONMSKENNUNG$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "lb_hon_ms_kennung");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "lb_hon_ms_kennung" element
+         */
+        public ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung getLbHonMsKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung target = null;
+                target = (ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung)get_store().find_element_user(LBHONMSKENNUNG$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "lb_hon_ms_kennung" element
+         */
+        public void setLbHonMsKennung(ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung lbHonMsKennung)
+        {
+            generatedSetterHelperImpl(lbHonMsKennung, LBHONMSKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "lb_hon_ms_kennung" element
+         */
+        public ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung addNewLbHonMsKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung target = null;
+                target = (ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung)get_store().add_element_user(LBHONMSKENNUNG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+    }
+    /**
+     * An XML honorarkorrekturen(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class HonorarkorrekturenImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.HonorarListeTyp.Honorarkorrekturen
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public HonorarkorrekturenImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName KTKENNUNG$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kt_kennung");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().find_element_user(KTKENNUNG$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        public void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung)
+        {
+            generatedSetterHelperImpl(ktKennung, KTKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().add_element_user(KTKENNUNG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+    }
+}
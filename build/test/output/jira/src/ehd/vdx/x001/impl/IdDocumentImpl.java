@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: id
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.IdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one id(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class IdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.IdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+    
+    
+    /**
+     * Gets the "id" element
+     */
+    public ehd.vdx.x001.IdTyp getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(ID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(ehd.vdx.x001.IdTyp id)
+    {
+        generatedSetterHelperImpl(id, ID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "id" element
+     */
+    public ehd.vdx.x001.IdTyp addNewId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(ID$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * XML Type:  id_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.IdTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML id_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class IdTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.IdTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IdTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EX$0 = 
+        new javax.xml.namespace.QName("", "EX");
+    private static final javax.xml.namespace.QName RT$2 = 
+        new javax.xml.namespace.QName("", "RT");
+    private static final javax.xml.namespace.QName RTV$4 = 
+        new javax.xml.namespace.QName("", "RTV");
+    
+    
+    /**
+     * Gets the "EX" attribute
+     */
+    public java.lang.String getEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EX" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "EX" attribute
+     */
+    public boolean isSetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(EX$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "EX" attribute
+     */
+    public void setEX(java.lang.String ex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+            }
+            target.setStringValue(ex);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EX" attribute
+     */
+    public void xsetEX(org.apache.xmlbeans.XmlString ex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+            }
+            target.set(ex);
+        }
+    }
+    
+    /**
+     * Unsets the "EX" attribute
+     */
+    public void unsetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(EX$0);
+        }
+    }
+    
+    /**
+     * Gets the "RT" attribute
+     */
+    public java.lang.String getRT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "RT" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetRT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RT$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RT" attribute
+     */
+    public void setRT(java.lang.String rt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RT$2);
+            }
+            target.setStringValue(rt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "RT" attribute
+     */
+    public void xsetRT(org.apache.xmlbeans.XmlString rt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RT$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RT$2);
+            }
+            target.set(rt);
+        }
+    }
+    
+    /**
+     * Gets the "RTV" attribute
+     */
+    public java.lang.String getRTV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RTV$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "RTV" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetRTV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RTV$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "RTV" attribute
+     */
+    public boolean isSetRTV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(RTV$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "RTV" attribute
+     */
+    public void setRTV(java.lang.String rtv)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RTV$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RTV$4);
+            }
+            target.setStringValue(rtv);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "RTV" attribute
+     */
+    public void xsetRTV(org.apache.xmlbeans.XmlString rtv)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RTV$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RTV$4);
+            }
+            target.set(rtv);
+        }
+    }
+    
+    /**
+     * Unsets the "RTV" attribute
+     */
+    public void unsetRTV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(RTV$4);
+        }
+    }
+}
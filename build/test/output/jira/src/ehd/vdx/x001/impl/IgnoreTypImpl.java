@@ -0,0 +1,27 @@
+/*
+ * XML Type:  ignore_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.IgnoreTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML ignore_typ(@urn:ehd/vdx/001).
+ *
+ * This is an atomic type that is a restriction of ehd.vdx.x001.IgnoreTyp.
+ */
+public class IgnoreTypImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.IgnoreTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IgnoreTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected IgnoreTypImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
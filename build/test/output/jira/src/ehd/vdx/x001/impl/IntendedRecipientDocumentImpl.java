@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: intended_recipient
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.IntendedRecipientDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one intended_recipient(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class IntendedRecipientDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.IntendedRecipientDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public IntendedRecipientDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName INTENDEDRECIPIENT$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "intended_recipient");
+    
+    
+    /**
+     * Gets the "intended_recipient" element
+     */
+    public ehd.vdx.x001.IntendedRecipientTyp getIntendedRecipient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IntendedRecipientTyp target = null;
+            target = (ehd.vdx.x001.IntendedRecipientTyp)get_store().find_element_user(INTENDEDRECIPIENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "intended_recipient" element
+     */
+    public void setIntendedRecipient(ehd.vdx.x001.IntendedRecipientTyp intendedRecipient)
+    {
+        generatedSetterHelperImpl(intendedRecipient, INTENDEDRECIPIENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "intended_recipient" element
+     */
+    public ehd.vdx.x001.IntendedRecipientTyp addNewIntendedRecipient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IntendedRecipientTyp target = null;
+            target = (ehd.vdx.x001.IntendedRecipientTyp)get_store().add_element_user(INTENDEDRECIPIENT$0);
+            return target;
+        }
+    }
+}
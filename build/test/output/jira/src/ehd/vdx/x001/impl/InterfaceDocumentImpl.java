@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: interface
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.InterfaceDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one interface(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class InterfaceDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.InterfaceDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InterfaceDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName INTERFACE$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "interface");
+    
+    
+    /**
+     * Gets the "interface" element
+     */
+    public ehd.vdx.x001.InterfaceTyp getInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceTyp target = null;
+            target = (ehd.vdx.x001.InterfaceTyp)get_store().find_element_user(INTERFACE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "interface" element
+     */
+    public void setInterface(ehd.vdx.x001.InterfaceTyp xinterface)
+    {
+        generatedSetterHelperImpl(xinterface, INTERFACE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "interface" element
+     */
+    public ehd.vdx.x001.InterfaceTyp addNewInterface()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceTyp target = null;
+            target = (ehd.vdx.x001.InterfaceTyp)get_store().add_element_user(INTERFACE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * XML Type:  interface_id_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.InterfaceIdTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML interface_id_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class InterfaceIdTypImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.InterfaceIdTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InterfaceIdTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RT$0 = 
+        new javax.xml.namespace.QName("", "RT");
+    
+    
+    /**
+     * Gets the "RT" attribute
+     */
+    public java.lang.String getRT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(RT$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "RT" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetRT()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(RT$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "RT" attribute
+     */
+    public void setRT(java.lang.String rt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RT$0);
+            }
+            target.setStringValue(rt);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "RT" attribute
+     */
+    public void xsetRT(org.apache.xmlbeans.XmlString rt)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RT$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RT$0);
+            }
+            target.set(rt);
+        }
+    }
+}
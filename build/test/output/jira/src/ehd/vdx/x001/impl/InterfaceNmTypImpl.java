@@ -0,0 +1,24 @@
+/*
+ * XML Type:  interface_nm_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.InterfaceNmTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML interface_nm_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class InterfaceNmTypImpl extends ehd.vdx.x001.impl.VStringTypImpl implements ehd.vdx.x001.InterfaceNmTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InterfaceNmTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,426 @@
+/*
+ * XML Type:  interface_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.InterfaceTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML interface_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class InterfaceTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.InterfaceTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InterfaceTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+    private static final javax.xml.namespace.QName INTERFACENM$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "interface.nm");
+    private static final javax.xml.namespace.QName VERSION$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "version");
+    private static final javax.xml.namespace.QName ORIGINATOR$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "originator");
+    private static final javax.xml.namespace.QName DESCRIPTION$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "description");
+    private static final javax.xml.namespace.QName LOCALHEADER$10 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "id" element
+     */
+    public ehd.vdx.x001.InterfaceIdTyp getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceIdTyp target = null;
+            target = (ehd.vdx.x001.InterfaceIdTyp)get_store().find_element_user(ID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(ehd.vdx.x001.InterfaceIdTyp id)
+    {
+        generatedSetterHelperImpl(id, ID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "id" element
+     */
+    public ehd.vdx.x001.InterfaceIdTyp addNewId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceIdTyp target = null;
+            target = (ehd.vdx.x001.InterfaceIdTyp)get_store().add_element_user(ID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "interface.nm" element
+     */
+    public ehd.vdx.x001.InterfaceNmTyp getInterfaceNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceNmTyp target = null;
+            target = (ehd.vdx.x001.InterfaceNmTyp)get_store().find_element_user(INTERFACENM$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "interface.nm" element
+     */
+    public void setInterfaceNm(ehd.vdx.x001.InterfaceNmTyp interfaceNm)
+    {
+        generatedSetterHelperImpl(interfaceNm, INTERFACENM$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "interface.nm" element
+     */
+    public ehd.vdx.x001.InterfaceNmTyp addNewInterfaceNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceNmTyp target = null;
+            target = (ehd.vdx.x001.InterfaceNmTyp)get_store().add_element_user(INTERFACENM$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "version" element
+     */
+    public ehd.vdx.x001.InterfaceVersionTyp getVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceVersionTyp target = null;
+            target = (ehd.vdx.x001.InterfaceVersionTyp)get_store().find_element_user(VERSION$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version" element
+     */
+    public void setVersion(ehd.vdx.x001.InterfaceVersionTyp version)
+    {
+        generatedSetterHelperImpl(version, VERSION$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "version" element
+     */
+    public ehd.vdx.x001.InterfaceVersionTyp addNewVersion()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.InterfaceVersionTyp target = null;
+            target = (ehd.vdx.x001.InterfaceVersionTyp)get_store().add_element_user(VERSION$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "originator" elements
+     */
+    public ehd.vdx.x001.OriginatorTyp[] getOriginatorArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ORIGINATOR$6, targetList);
+            ehd.vdx.x001.OriginatorTyp[] result = new ehd.vdx.x001.OriginatorTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "originator" element
+     */
+    public ehd.vdx.x001.OriginatorTyp getOriginatorArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginatorTyp target = null;
+            target = (ehd.vdx.x001.OriginatorTyp)get_store().find_element_user(ORIGINATOR$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "originator" element
+     */
+    public int sizeOfOriginatorArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ORIGINATOR$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "originator" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setOriginatorArray(ehd.vdx.x001.OriginatorTyp[] originatorArray)
+    {
+        check_orphaned();
+        arraySetterHelper(originatorArray, ORIGINATOR$6);
+    }
+    
+    /**
+     * Sets ith "originator" element
+     */
+    public void setOriginatorArray(int i, ehd.vdx.x001.OriginatorTyp originator)
+    {
+        generatedSetterHelperImpl(originator, ORIGINATOR$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "originator" element
+     */
+    public ehd.vdx.x001.OriginatorTyp insertNewOriginator(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginatorTyp target = null;
+            target = (ehd.vdx.x001.OriginatorTyp)get_store().insert_element_user(ORIGINATOR$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "originator" element
+     */
+    public ehd.vdx.x001.OriginatorTyp addNewOriginator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginatorTyp target = null;
+            target = (ehd.vdx.x001.OriginatorTyp)get_store().add_element_user(ORIGINATOR$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "originator" element
+     */
+    public void removeOriginator(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ORIGINATOR$6, i);
+        }
+    }
+    
+    /**
+     * Gets the "description" element
+     */
+    public ehd.vdx.x001.DescriptionTyp getDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DescriptionTyp target = null;
+            target = (ehd.vdx.x001.DescriptionTyp)get_store().find_element_user(DESCRIPTION$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "description" element
+     */
+    public boolean isSetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DESCRIPTION$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "description" element
+     */
+    public void setDescription(ehd.vdx.x001.DescriptionTyp description)
+    {
+        generatedSetterHelperImpl(description, DESCRIPTION$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "description" element
+     */
+    public ehd.vdx.x001.DescriptionTyp addNewDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.DescriptionTyp target = null;
+            target = (ehd.vdx.x001.DescriptionTyp)get_store().add_element_user(DESCRIPTION$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "description" element
+     */
+    public void unsetDescription()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DESCRIPTION$8, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$10, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$10);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$10, i);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  interface_version_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.InterfaceVersionTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML interface_version_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class InterfaceVersionTypImpl extends ehd.vdx.x001.impl.VStringTypImpl implements ehd.vdx.x001.InterfaceVersionTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public InterfaceVersionTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
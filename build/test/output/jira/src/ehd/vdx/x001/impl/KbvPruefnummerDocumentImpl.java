@@ -0,0 +1,172 @@
+/*
+ * An XML document type.
+ * Localname: kbv_pruefnummer
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.KbvPruefnummerDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one kbv_pruefnummer(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class KbvPruefnummerDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.KbvPruefnummerDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public KbvPruefnummerDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KBVPRUEFNUMMER$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "kbv_pruefnummer");
+    
+    
+    /**
+     * Gets the "kbv_pruefnummer" element
+     */
+    public ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer getKbvPruefnummer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer target = null;
+            target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer)get_store().find_element_user(KBVPRUEFNUMMER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "kbv_pruefnummer" element
+     */
+    public void setKbvPruefnummer(ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer kbvPruefnummer)
+    {
+        generatedSetterHelperImpl(kbvPruefnummer, KBVPRUEFNUMMER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "kbv_pruefnummer" element
+     */
+    public ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer addNewKbvPruefnummer()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer target = null;
+            target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer)get_store().add_element_user(KBVPRUEFNUMMER$0);
+            return target;
+        }
+    }
+    /**
+     * An XML kbv_pruefnummer(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class KbvPruefnummerImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public KbvPruefnummerImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V target = null;
+                target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V target = null;
+                target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.KbvPruefnummerDocument$KbvPruefnummer$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * An XML document type.
+ * Localname: kv_bewertungssteuerung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.KvBewertungssteuerungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one kv_bewertungssteuerung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class KvBewertungssteuerungDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.KvBewertungssteuerungDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public KvBewertungssteuerungDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KVBEWERTUNGSSTEUERUNG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "kv_bewertungssteuerung");
+    
+    
+    /**
+     * Gets the "kv_bewertungssteuerung" element
+     */
+    public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung getKvBewertungssteuerung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+            target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().find_element_user(KVBEWERTUNGSSTEUERUNG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "kv_bewertungssteuerung" element
+     */
+    public void setKvBewertungssteuerung(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung kvBewertungssteuerung)
+    {
+        generatedSetterHelperImpl(kvBewertungssteuerung, KVBEWERTUNGSSTEUERUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "kv_bewertungssteuerung" element
+     */
+    public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung addNewKvBewertungssteuerung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+            target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().add_element_user(KVBEWERTUNGSSTEUERUNG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML kv_bewertungssteuerung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class KvBewertungssteuerungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public KvBewertungssteuerungImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName U$2 = 
+            new javax.xml.namespace.QName("", "U");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "U" attribute
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U.Enum getU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U xgetU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U)get_store().find_attribute_user(U$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "U" attribute
+         */
+        public void setU(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U.Enum u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(U$2);
+                }
+                target.setEnumValue(u);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        public void xsetU(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U)get_store().add_attribute_user(U$2);
+                }
+                target.set(u);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.KvBewertungssteuerungDocument$KvBewertungssteuerung$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.KvBewertungssteuerungDocument$KvBewertungssteuerung$U.
+         */
+        public static class UImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung.U
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
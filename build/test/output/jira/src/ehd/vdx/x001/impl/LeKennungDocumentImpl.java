@@ -0,0 +1,172 @@
+/*
+ * An XML document type.
+ * Localname: le_kennung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeKennungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one le_kennung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class LeKennungDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeKennungDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LeKennungDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LEKENNUNG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "le_kennung");
+    
+    
+    /**
+     * Gets the "le_kennung" element
+     */
+    public ehd.vdx.x001.LeKennungDocument.LeKennung getLeKennung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeKennungDocument.LeKennung target = null;
+            target = (ehd.vdx.x001.LeKennungDocument.LeKennung)get_store().find_element_user(LEKENNUNG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "le_kennung" element
+     */
+    public void setLeKennung(ehd.vdx.x001.LeKennungDocument.LeKennung leKennung)
+    {
+        generatedSetterHelperImpl(leKennung, LEKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "le_kennung" element
+     */
+    public ehd.vdx.x001.LeKennungDocument.LeKennung addNewLeKennung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeKennungDocument.LeKennung target = null;
+            target = (ehd.vdx.x001.LeKennungDocument.LeKennung)get_store().add_element_user(LEKENNUNG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML le_kennung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class LeKennungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeKennungDocument.LeKennung
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LeKennungImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.LeKennungDocument.LeKennung.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeKennungDocument.LeKennung.V target = null;
+                target = (ehd.vdx.x001.LeKennungDocument.LeKennung.V)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.LeKennungDocument.LeKennung.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeKennungDocument.LeKennung.V target = null;
+                target = (ehd.vdx.x001.LeKennungDocument.LeKennung.V)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.LeKennungDocument.LeKennung.V)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeKennungDocument$LeKennung$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeKennungDocument.LeKennung.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
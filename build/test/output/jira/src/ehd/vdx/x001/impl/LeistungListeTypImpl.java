@@ -0,0 +1,2259 @@
+/*
+ * XML Type:  leistung_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeistungListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML leistung_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class LeistungListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.LeistungListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LeistungListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LEISTUNG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistung");
+    
+    
+    /**
+     * Gets array of all "leistung" elements
+     */
+    public ehd.vdx.x001.LeistungListeTyp.Leistung[] getLeistungArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LEISTUNG$0, targetList);
+            ehd.vdx.x001.LeistungListeTyp.Leistung[] result = new ehd.vdx.x001.LeistungListeTyp.Leistung[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "leistung" element
+     */
+    public ehd.vdx.x001.LeistungListeTyp.Leistung getLeistungArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungListeTyp.Leistung target = null;
+            target = (ehd.vdx.x001.LeistungListeTyp.Leistung)get_store().find_element_user(LEISTUNG$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "leistung" element
+     */
+    public int sizeOfLeistungArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LEISTUNG$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "leistung" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLeistungArray(ehd.vdx.x001.LeistungListeTyp.Leistung[] leistungArray)
+    {
+        check_orphaned();
+        arraySetterHelper(leistungArray, LEISTUNG$0);
+    }
+    
+    /**
+     * Sets ith "leistung" element
+     */
+    public void setLeistungArray(int i, ehd.vdx.x001.LeistungListeTyp.Leistung leistung)
+    {
+        generatedSetterHelperImpl(leistung, LEISTUNG$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "leistung" element
+     */
+    public ehd.vdx.x001.LeistungListeTyp.Leistung insertNewLeistung(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungListeTyp.Leistung target = null;
+            target = (ehd.vdx.x001.LeistungListeTyp.Leistung)get_store().insert_element_user(LEISTUNG$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "leistung" element
+     */
+    public ehd.vdx.x001.LeistungListeTyp.Leistung addNewLeistung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungListeTyp.Leistung target = null;
+            target = (ehd.vdx.x001.LeistungListeTyp.Leistung)get_store().add_element_user(LEISTUNG$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "leistung" element
+     */
+    public void removeLeistung(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LEISTUNG$0, i);
+        }
+    }
+    /**
+     * An XML leistung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class LeistungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LeistungImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName GKVKONTO$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "gkv_konto");
+        private static final javax.xml.namespace.QName GNR$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "gnr");
+        private static final javax.xml.namespace.QName VORGANGKENNUNG$4 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vorgang_kennung");
+        private static final javax.xml.namespace.QName LEKENNUNG$6 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "le_kennung");
+        private static final javax.xml.namespace.QName BUDGETKENNUNG$8 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "budget_kennung");
+        private static final javax.xml.namespace.QName KVBEWERTUNGSSTEUERUNG$10 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kv_bewertungssteuerung");
+        private static final javax.xml.namespace.QName KBVBEWERTUNGSSTEUERUNG$12 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kbv_bewertungssteuerung");
+        private static final javax.xml.namespace.QName LEISTUNGSBEDARF$14 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistungsbedarf");
+        private static final javax.xml.namespace.QName HAEUFIGKEIT$16 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "haeufigkeit");
+        private static final javax.xml.namespace.QName VERTRAG$18 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vertrag");
+        private static final javax.xml.namespace.QName OPSCODELISTE$20 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "ops_code_liste");
+        
+        
+        /**
+         * Gets the "gkv_konto" element
+         */
+        public ehd.vdx.x001.GkvKontoDocument.GkvKonto getGkvKonto()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GkvKontoDocument.GkvKonto target = null;
+                target = (ehd.vdx.x001.GkvKontoDocument.GkvKonto)get_store().find_element_user(GKVKONTO$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "gkv_konto" element
+         */
+        public void setGkvKonto(ehd.vdx.x001.GkvKontoDocument.GkvKonto gkvKonto)
+        {
+            generatedSetterHelperImpl(gkvKonto, GKVKONTO$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "gkv_konto" element
+         */
+        public ehd.vdx.x001.GkvKontoDocument.GkvKonto addNewGkvKonto()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GkvKontoDocument.GkvKonto target = null;
+                target = (ehd.vdx.x001.GkvKontoDocument.GkvKonto)get_store().add_element_user(GKVKONTO$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "gnr" element
+         */
+        public ehd.vdx.x001.GnrDocument.Gnr getGnr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GnrDocument.Gnr target = null;
+                target = (ehd.vdx.x001.GnrDocument.Gnr)get_store().find_element_user(GNR$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "gnr" element
+         */
+        public void setGnr(ehd.vdx.x001.GnrDocument.Gnr gnr)
+        {
+            generatedSetterHelperImpl(gnr, GNR$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "gnr" element
+         */
+        public ehd.vdx.x001.GnrDocument.Gnr addNewGnr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GnrDocument.Gnr target = null;
+                target = (ehd.vdx.x001.GnrDocument.Gnr)get_store().add_element_user(GNR$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "vorgang_kennung" element
+         */
+        public ehd.vdx.x001.VorgangKennungDocument.VorgangKennung getVorgangKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangKennungDocument.VorgangKennung target = null;
+                target = (ehd.vdx.x001.VorgangKennungDocument.VorgangKennung)get_store().find_element_user(VORGANGKENNUNG$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "vorgang_kennung" element
+         */
+        public boolean isSetVorgangKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VORGANGKENNUNG$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "vorgang_kennung" element
+         */
+        public void setVorgangKennung(ehd.vdx.x001.VorgangKennungDocument.VorgangKennung vorgangKennung)
+        {
+            generatedSetterHelperImpl(vorgangKennung, VORGANGKENNUNG$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vorgang_kennung" element
+         */
+        public ehd.vdx.x001.VorgangKennungDocument.VorgangKennung addNewVorgangKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangKennungDocument.VorgangKennung target = null;
+                target = (ehd.vdx.x001.VorgangKennungDocument.VorgangKennung)get_store().add_element_user(VORGANGKENNUNG$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "vorgang_kennung" element
+         */
+        public void unsetVorgangKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VORGANGKENNUNG$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "le_kennung" element
+         */
+        public ehd.vdx.x001.LeKennungDocument.LeKennung getLeKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeKennungDocument.LeKennung target = null;
+                target = (ehd.vdx.x001.LeKennungDocument.LeKennung)get_store().find_element_user(LEKENNUNG$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "le_kennung" element
+         */
+        public boolean isSetLeKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LEKENNUNG$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "le_kennung" element
+         */
+        public void setLeKennung(ehd.vdx.x001.LeKennungDocument.LeKennung leKennung)
+        {
+            generatedSetterHelperImpl(leKennung, LEKENNUNG$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "le_kennung" element
+         */
+        public ehd.vdx.x001.LeKennungDocument.LeKennung addNewLeKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeKennungDocument.LeKennung target = null;
+                target = (ehd.vdx.x001.LeKennungDocument.LeKennung)get_store().add_element_user(LEKENNUNG$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "le_kennung" element
+         */
+        public void unsetLeKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LEKENNUNG$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "budget_kennung" element
+         */
+        public ehd.vdx.x001.BudgetKennungDocument.BudgetKennung getBudgetKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BudgetKennungDocument.BudgetKennung target = null;
+                target = (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung)get_store().find_element_user(BUDGETKENNUNG$8, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "budget_kennung" element
+         */
+        public void setBudgetKennung(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung budgetKennung)
+        {
+            generatedSetterHelperImpl(budgetKennung, BUDGETKENNUNG$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "budget_kennung" element
+         */
+        public ehd.vdx.x001.BudgetKennungDocument.BudgetKennung addNewBudgetKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BudgetKennungDocument.BudgetKennung target = null;
+                target = (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung)get_store().add_element_user(BUDGETKENNUNG$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "kv_bewertungssteuerung" elements
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] getKvBewertungssteuerungArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(KVBEWERTUNGSSTEUERUNG$10, targetList);
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] result = new ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung getKvBewertungssteuerungArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().find_element_user(KVBEWERTUNGSSTEUERUNG$10, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "kv_bewertungssteuerung" element
+         */
+        public int sizeOfKvBewertungssteuerungArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(KVBEWERTUNGSSTEUERUNG$10);
+            }
+        }
+        
+        /**
+         * Sets array of all "kv_bewertungssteuerung" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setKvBewertungssteuerungArray(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] kvBewertungssteuerungArray)
+        {
+            check_orphaned();
+            arraySetterHelper(kvBewertungssteuerungArray, KVBEWERTUNGSSTEUERUNG$10);
+        }
+        
+        /**
+         * Sets ith "kv_bewertungssteuerung" element
+         */
+        public void setKvBewertungssteuerungArray(int i, ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung kvBewertungssteuerung)
+        {
+            generatedSetterHelperImpl(kvBewertungssteuerung, KVBEWERTUNGSSTEUERUNG$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung insertNewKvBewertungssteuerung(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().insert_element_user(KVBEWERTUNGSSTEUERUNG$10, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung addNewKvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().add_element_user(KVBEWERTUNGSSTEUERUNG$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "kv_bewertungssteuerung" element
+         */
+        public void removeKvBewertungssteuerung(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(KVBEWERTUNGSSTEUERUNG$10, i);
+            }
+        }
+        
+        /**
+         * Gets the "kbv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung getKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung)get_store().find_element_user(KBVBEWERTUNGSSTEUERUNG$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "kbv_bewertungssteuerung" element
+         */
+        public boolean isSetKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(KBVBEWERTUNGSSTEUERUNG$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "kbv_bewertungssteuerung" element
+         */
+        public void setKbvBewertungssteuerung(ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung kbvBewertungssteuerung)
+        {
+            generatedSetterHelperImpl(kbvBewertungssteuerung, KBVBEWERTUNGSSTEUERUNG$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "kbv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung addNewKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung)get_store().add_element_user(KBVBEWERTUNGSSTEUERUNG$12);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "kbv_bewertungssteuerung" element
+         */
+        public void unsetKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(KBVBEWERTUNGSSTEUERUNG$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "leistungsbedarf" element
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf getLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().find_element_user(LEISTUNGSBEDARF$14, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "leistungsbedarf" element
+         */
+        public void setLeistungsbedarf(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf leistungsbedarf)
+        {
+            generatedSetterHelperImpl(leistungsbedarf, LEISTUNGSBEDARF$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "leistungsbedarf" element
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf addNewLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().add_element_user(LEISTUNGSBEDARF$14);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "haeufigkeit" element
+         */
+        public ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit getHaeufigkeit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit target = null;
+                target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit)get_store().find_element_user(HAEUFIGKEIT$16, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "haeufigkeit" element
+         */
+        public void setHaeufigkeit(ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit haeufigkeit)
+        {
+            generatedSetterHelperImpl(haeufigkeit, HAEUFIGKEIT$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "haeufigkeit" element
+         */
+        public ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit addNewHaeufigkeit()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit target = null;
+                target = (ehd.vdx.x001.HaeufigkeitDocument.Haeufigkeit)get_store().add_element_user(HAEUFIGKEIT$16);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "vertrag" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag getVertrag()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag)get_store().find_element_user(VERTRAG$18, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "vertrag" element
+         */
+        public boolean isSetVertrag()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VERTRAG$18) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "vertrag" element
+         */
+        public void setVertrag(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag vertrag)
+        {
+            generatedSetterHelperImpl(vertrag, VERTRAG$18, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vertrag" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag addNewVertrag()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag)get_store().add_element_user(VERTRAG$18);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "vertrag" element
+         */
+        public void unsetVertrag()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VERTRAG$18, 0);
+            }
+        }
+        
+        /**
+         * Gets the "ops_code_liste" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe getOpsCodeListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe)get_store().find_element_user(OPSCODELISTE$20, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "ops_code_liste" element
+         */
+        public boolean isSetOpsCodeListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(OPSCODELISTE$20) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "ops_code_liste" element
+         */
+        public void setOpsCodeListe(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe opsCodeListe)
+        {
+            generatedSetterHelperImpl(opsCodeListe, OPSCODELISTE$20, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "ops_code_liste" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe addNewOpsCodeListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe)get_store().add_element_user(OPSCODELISTE$20);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "ops_code_liste" element
+         */
+        public void unsetOpsCodeListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(OPSCODELISTE$20, 0);
+            }
+        }
+        /**
+         * An XML vertrag(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class VertragImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VertragImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName VERTRAGSART$0 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "vertragsart");
+            private static final javax.xml.namespace.QName ID$2 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+            private static final javax.xml.namespace.QName BEZEICHNUNG$4 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "bezeichnung");
+            private static final javax.xml.namespace.QName VERGUETUNG$6 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "verguetung");
+            private static final javax.xml.namespace.QName BEWERTUNG$8 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "bewertung");
+            private static final javax.xml.namespace.QName GNRTEXT$10 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "gnr_text");
+            
+            
+            /**
+             * Gets the "vertragsart" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart getVertragsart()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart)get_store().find_element_user(VERTRAGSART$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "vertragsart" element
+             */
+            public void setVertragsart(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart vertragsart)
+            {
+                generatedSetterHelperImpl(vertragsart, VERTRAGSART$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "vertragsart" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart addNewVertragsart()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart)get_store().add_element_user(VERTRAGSART$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "id" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id getId()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id)get_store().find_element_user(ID$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "id" element
+             */
+            public boolean isSetId()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(ID$2) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "id" element
+             */
+            public void setId(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id id)
+            {
+                generatedSetterHelperImpl(id, ID$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "id" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id addNewId()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id)get_store().add_element_user(ID$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "id" element
+             */
+            public void unsetId()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(ID$2, 0);
+                }
+            }
+            
+            /**
+             * Gets the "bezeichnung" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung getBezeichnung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung)get_store().find_element_user(BEZEICHNUNG$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "bezeichnung" element
+             */
+            public boolean isSetBezeichnung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(BEZEICHNUNG$4) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "bezeichnung" element
+             */
+            public void setBezeichnung(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung bezeichnung)
+            {
+                generatedSetterHelperImpl(bezeichnung, BEZEICHNUNG$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "bezeichnung" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung addNewBezeichnung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung)get_store().add_element_user(BEZEICHNUNG$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "bezeichnung" element
+             */
+            public void unsetBezeichnung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(BEZEICHNUNG$4, 0);
+                }
+            }
+            
+            /**
+             * Gets the "verguetung" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung getVerguetung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung)get_store().find_element_user(VERGUETUNG$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "verguetung" element
+             */
+            public boolean isSetVerguetung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(VERGUETUNG$6) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "verguetung" element
+             */
+            public void setVerguetung(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung verguetung)
+            {
+                generatedSetterHelperImpl(verguetung, VERGUETUNG$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "verguetung" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung addNewVerguetung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung)get_store().add_element_user(VERGUETUNG$6);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "verguetung" element
+             */
+            public void unsetVerguetung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(VERGUETUNG$6, 0);
+                }
+            }
+            
+            /**
+             * Gets the "bewertung" element
+             */
+            public ehd.vdx.x001.BewertungDocument.Bewertung getBewertung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.BewertungDocument.Bewertung target = null;
+                    target = (ehd.vdx.x001.BewertungDocument.Bewertung)get_store().find_element_user(BEWERTUNG$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "bewertung" element
+             */
+            public boolean isSetBewertung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(BEWERTUNG$8) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "bewertung" element
+             */
+            public void setBewertung(ehd.vdx.x001.BewertungDocument.Bewertung bewertung)
+            {
+                generatedSetterHelperImpl(bewertung, BEWERTUNG$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "bewertung" element
+             */
+            public ehd.vdx.x001.BewertungDocument.Bewertung addNewBewertung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.BewertungDocument.Bewertung target = null;
+                    target = (ehd.vdx.x001.BewertungDocument.Bewertung)get_store().add_element_user(BEWERTUNG$8);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "bewertung" element
+             */
+            public void unsetBewertung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(BEWERTUNG$8, 0);
+                }
+            }
+            
+            /**
+             * Gets the "gnr_text" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText getGnrText()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText)get_store().find_element_user(GNRTEXT$10, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "gnr_text" element
+             */
+            public void setGnrText(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText gnrText)
+            {
+                generatedSetterHelperImpl(gnrText, GNRTEXT$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "gnr_text" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText addNewGnrText()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText)get_store().add_element_user(GNRTEXT$10);
+                    return target;
+                }
+            }
+            /**
+             * An XML vertragsart(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class VertragsartImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VertragsartImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName S$2 = 
+                    new javax.xml.namespace.QName("", "S");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                public java.lang.String getS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                      }
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                public boolean isSetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(S$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                public void setS(java.lang.String s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                      }
+                      target.setStringValue(s);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                public void xsetS(org.apache.xmlbeans.XmlString s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                      }
+                      target.set(s);
+                    }
+                }
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                public void unsetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(S$2);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Vertragsart$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Vertragsart.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML id(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class IdImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public IdImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName EX$0 = 
+                    new javax.xml.namespace.QName("", "EX");
+                
+                
+                /**
+                 * Gets the "EX" attribute
+                 */
+                public java.lang.String getEX()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "EX" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetEX()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "EX" attribute
+                 */
+                public boolean isSetEX()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(EX$0) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "EX" attribute
+                 */
+                public void setEX(java.lang.String ex)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+                      }
+                      target.setStringValue(ex);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "EX" attribute
+                 */
+                public void xsetEX(org.apache.xmlbeans.XmlString ex)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+                      }
+                      target.set(ex);
+                    }
+                }
+                
+                /**
+                 * Unsets the "EX" attribute
+                 */
+                public void unsetEX()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(EX$0);
+                    }
+                }
+                /**
+                 * An XML RT(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Id$RT.
+                 */
+                public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.RT
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public RTImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+                /**
+                 * An XML EX(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Id$EX.
+                 */
+                public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Id.EX
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public EXImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML bezeichnung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class BezeichnungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public BezeichnungImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$Bezeichnung$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Bezeichnung.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+            /**
+             * An XML verguetung(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class VerguetungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.Verguetung
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public VerguetungImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName DN$2 = 
+                    new javax.xml.namespace.QName("", "DN");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public int getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                      if (text != null)
+                      {
+                        try
+                        {
+                          return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                        }
+                        catch (java.lang.RuntimeException e)
+                        {
+                          // not a valid value, the error comes from the target
+                        }
+                      }
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return 0;
+                      }
+                      return target.getIntValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public org.apache.xmlbeans.XmlInt xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlInt target = null;
+                      target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(int v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setIntValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(org.apache.xmlbeans.XmlInt v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlInt target = null;
+                      target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "DN" attribute
+                 */
+                public int getDN()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      java.lang.CharSequence text = get_store().find_attribute_chars(DN$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                      if (text != null)
+                      {
+                        try
+                        {
+                          return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                        }
+                        catch (java.lang.RuntimeException e)
+                        {
+                          // not a valid value, the error comes from the target
+                        }
+                      }
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(DN$2);
+                      }
+                      if (target == null)
+                      {
+                        return 0;
+                      }
+                      return target.getIntValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "DN" attribute
+                 */
+                public org.apache.xmlbeans.XmlInt xgetDN()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlInt target = null;
+                      target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(DN$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "DN" attribute
+                 */
+                public boolean isSetDN()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(DN$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "DN" attribute
+                 */
+                public void setDN(int dn)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DN$2);
+                      }
+                      target.setIntValue(dn);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "DN" attribute
+                 */
+                public void xsetDN(org.apache.xmlbeans.XmlInt dn)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlInt target = null;
+                      target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(DN$2);
+                      }
+                      target.set(dn);
+                    }
+                }
+                
+                /**
+                 * Unsets the "DN" attribute
+                 */
+                public void unsetDN()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(DN$2);
+                    }
+                }
+            }
+            /**
+             * An XML gnr_text(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class GnrTextImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public GnrTextImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$Vertrag$GnrText$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.Vertrag.GnrText.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+        }
+        /**
+         * An XML ops_code_liste(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class OpsCodeListeImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public OpsCodeListeImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName OPSCODE$0 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "ops_code");
+            
+            
+            /**
+             * Gets array of all "ops_code" elements
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[] getOpsCodeArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    java.util.List targetList = new java.util.ArrayList();
+                    get_store().find_all_element_users(OPSCODE$0, targetList);
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[] result = new ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[targetList.size()];
+                    targetList.toArray(result);
+                    return result;
+                }
+            }
+            
+            /**
+             * Gets ith "ops_code" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode getOpsCodeArray(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode)get_store().find_element_user(OPSCODE$0, i);
+                    if (target == null)
+                    {
+                      throw new IndexOutOfBoundsException();
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Returns number of "ops_code" element
+             */
+            public int sizeOfOpsCodeArray()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(OPSCODE$0);
+                }
+            }
+            
+            /**
+             * Sets array of all "ops_code" element  WARNING: This method is not atomicaly synchronized.
+             */
+            public void setOpsCodeArray(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode[] opsCodeArray)
+            {
+                check_orphaned();
+                arraySetterHelper(opsCodeArray, OPSCODE$0);
+            }
+            
+            /**
+             * Sets ith "ops_code" element
+             */
+            public void setOpsCodeArray(int i, ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode opsCode)
+            {
+                generatedSetterHelperImpl(opsCode, OPSCODE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+            }
+            
+            /**
+             * Inserts and returns a new empty value (as xml) as the ith "ops_code" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode insertNewOpsCode(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode)get_store().insert_element_user(OPSCODE$0, i);
+                    return target;
+                }
+            }
+            
+            /**
+             * Appends and returns a new empty value (as xml) as the last "ops_code" element
+             */
+            public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode addNewOpsCode()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode target = null;
+                    target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode)get_store().add_element_user(OPSCODE$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Removes the ith "ops_code" element
+             */
+            public void removeOpsCode(int i)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(OPSCODE$0, i);
+                }
+            }
+            /**
+             * An XML ops_code(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class OpsCodeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public OpsCodeImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName V$0 = 
+                    new javax.xml.namespace.QName("", "V");
+                private static final javax.xml.namespace.QName S$2 = 
+                    new javax.xml.namespace.QName("", "S");
+                
+                
+                /**
+                 * Gets the "V" attribute
+                 */
+                public java.lang.String getV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "V" attribute
+                 */
+                public ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V xgetV()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V)get_store().find_attribute_user(V$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Sets the "V" attribute
+                 */
+                public void setV(java.lang.String v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                      }
+                      target.setStringValue(v);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "V" attribute
+                 */
+                public void xsetV(ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V v)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V target = null;
+                      target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V)get_store().find_attribute_user(V$0);
+                      if (target == null)
+                      {
+                        target = (ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V)get_store().add_attribute_user(V$0);
+                      }
+                      target.set(v);
+                    }
+                }
+                
+                /**
+                 * Gets the "S" attribute
+                 */
+                public java.lang.String getS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$2);
+                      }
+                      if (target == null)
+                      {
+                        return null;
+                      }
+                      return target.getStringValue();
+                    }
+                }
+                
+                /**
+                 * Gets (as xml) the "S" attribute
+                 */
+                public org.apache.xmlbeans.XmlString xgetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$2);
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * True if has "S" attribute
+                 */
+                public boolean isSetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().find_attribute_user(S$2) != null;
+                    }
+                }
+                
+                /**
+                 * Sets the "S" attribute
+                 */
+                public void setS(java.lang.String s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.SimpleValue target = null;
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$2);
+                      }
+                      target.setStringValue(s);
+                    }
+                }
+                
+                /**
+                 * Sets (as xml) the "S" attribute
+                 */
+                public void xsetS(org.apache.xmlbeans.XmlString s)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      org.apache.xmlbeans.XmlString target = null;
+                      target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$2);
+                      if (target == null)
+                      {
+                        target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$2);
+                      }
+                      target.set(s);
+                    }
+                }
+                
+                /**
+                 * Unsets the "S" attribute
+                 */
+                public void unsetS()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_attribute(S$2);
+                    }
+                }
+                /**
+                 * An XML V(@).
+                 *
+                 * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungListeTyp$Leistung$OpsCodeListe$OpsCode$V.
+                 */
+                public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.LeistungListeTyp.Leistung.OpsCodeListe.OpsCode.V
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public VImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType, false);
+                    }
+                    
+                    protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                    {
+                      super(sType, b);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * An XML document type.
+ * Localname: leistungsbedarf
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeistungsbedarfDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one leistungsbedarf(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class LeistungsbedarfDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungsbedarfDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LeistungsbedarfDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LEISTUNGSBEDARF$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistungsbedarf");
+    
+    
+    /**
+     * Gets the "leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf getLeistungsbedarf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().find_element_user(LEISTUNGSBEDARF$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "leistungsbedarf" element
+     */
+    public void setLeistungsbedarf(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf leistungsbedarf)
+    {
+        generatedSetterHelperImpl(leistungsbedarf, LEISTUNGSBEDARF$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf addNewLeistungsbedarf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().add_element_user(LEISTUNGSBEDARF$0);
+            return target;
+        }
+    }
+    /**
+     * An XML leistungsbedarf(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class LeistungsbedarfImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public LeistungsbedarfImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName U$2 = 
+            new javax.xml.namespace.QName("", "U");
+        private static final javax.xml.namespace.QName DN$4 = 
+            new javax.xml.namespace.QName("", "DN");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U.Enum getU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U xgetU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U)get_store().find_attribute_user(U$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "U" attribute
+         */
+        public void setU(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U.Enum u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(U$2);
+                }
+                target.setEnumValue(u);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        public void xsetU(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U)get_store().find_attribute_user(U$2);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U)get_store().add_attribute_user(U$2);
+                }
+                target.set(u);
+            }
+        }
+        
+        /**
+         * Gets the "DN" attribute
+         */
+        public int getDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(DN$4, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(DN$4);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "DN" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(DN$4);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "DN" attribute
+         */
+        public boolean isSetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DN$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "DN" attribute
+         */
+        public void setDN(int dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DN$4);
+                }
+                target.setIntValue(dn);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "DN" attribute
+         */
+        public void xsetDN(org.apache.xmlbeans.XmlInt dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(DN$4);
+                }
+                target.set(dn);
+            }
+        }
+        
+        /**
+         * Unsets the "DN" attribute
+         */
+        public void unsetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DN$4);
+            }
+        }
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungsbedarfDocument$Leistungsbedarf$U.
+         */
+        public static class UImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf.U
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,692 @@
+/*
+ * XML Type:  leistungsbedarf_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LeistungsbedarfListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML leistungsbedarf_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class LeistungsbedarfListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.LeistungsbedarfListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LeistungsbedarfListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName KTLEISTUNGSBEDARF$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "kt_leistungsbedarf");
+    private static final javax.xml.namespace.QName MSLEISTUNGSBEDARF$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "ms_leistungsbedarf");
+    
+    
+    /**
+     * Gets array of all "kt_leistungsbedarf" elements
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[] getKtLeistungsbedarfArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(KTLEISTUNGSBEDARF$0, targetList);
+            ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[] result = new ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "kt_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf getKtLeistungsbedarfArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf)get_store().find_element_user(KTLEISTUNGSBEDARF$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "kt_leistungsbedarf" element
+     */
+    public int sizeOfKtLeistungsbedarfArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(KTLEISTUNGSBEDARF$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "kt_leistungsbedarf" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setKtLeistungsbedarfArray(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf[] ktLeistungsbedarfArray)
+    {
+        check_orphaned();
+        arraySetterHelper(ktLeistungsbedarfArray, KTLEISTUNGSBEDARF$0);
+    }
+    
+    /**
+     * Sets ith "kt_leistungsbedarf" element
+     */
+    public void setKtLeistungsbedarfArray(int i, ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf ktLeistungsbedarf)
+    {
+        generatedSetterHelperImpl(ktLeistungsbedarf, KTLEISTUNGSBEDARF$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "kt_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf insertNewKtLeistungsbedarf(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf)get_store().insert_element_user(KTLEISTUNGSBEDARF$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "kt_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf addNewKtLeistungsbedarf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf)get_store().add_element_user(KTLEISTUNGSBEDARF$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "kt_leistungsbedarf" element
+     */
+    public void removeKtLeistungsbedarf(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(KTLEISTUNGSBEDARF$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "ms_leistungsbedarf" elements
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[] getMsLeistungsbedarfArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MSLEISTUNGSBEDARF$2, targetList);
+            ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[] result = new ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "ms_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf getMsLeistungsbedarfArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf)get_store().find_element_user(MSLEISTUNGSBEDARF$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "ms_leistungsbedarf" element
+     */
+    public int sizeOfMsLeistungsbedarfArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MSLEISTUNGSBEDARF$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "ms_leistungsbedarf" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMsLeistungsbedarfArray(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf[] msLeistungsbedarfArray)
+    {
+        check_orphaned();
+        arraySetterHelper(msLeistungsbedarfArray, MSLEISTUNGSBEDARF$2);
+    }
+    
+    /**
+     * Sets ith "ms_leistungsbedarf" element
+     */
+    public void setMsLeistungsbedarfArray(int i, ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf msLeistungsbedarf)
+    {
+        generatedSetterHelperImpl(msLeistungsbedarf, MSLEISTUNGSBEDARF$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "ms_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf insertNewMsLeistungsbedarf(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf)get_store().insert_element_user(MSLEISTUNGSBEDARF$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "ms_leistungsbedarf" element
+     */
+    public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf addNewMsLeistungsbedarf()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf target = null;
+            target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf)get_store().add_element_user(MSLEISTUNGSBEDARF$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "ms_leistungsbedarf" element
+     */
+    public void removeMsLeistungsbedarf(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MSLEISTUNGSBEDARF$2, i);
+        }
+    }
+    /**
+     * An XML kt_leistungsbedarf(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class KtLeistungsbedarfImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public KtLeistungsbedarfImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName KTKENNUNG$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kt_kennung");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName U$4 = 
+            new javax.xml.namespace.QName("", "U");
+        
+        
+        /**
+         * Gets the "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung getKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().find_element_user(KTKENNUNG$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "kt_kennung" element
+         */
+        public void setKtKennung(ehd.vdx.x001.KtKennungDocument.KtKennung ktKennung)
+        {
+            generatedSetterHelperImpl(ktKennung, KTKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "kt_kennung" element
+         */
+        public ehd.vdx.x001.KtKennungDocument.KtKennung addNewKtKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KtKennungDocument.KtKennung target = null;
+                target = (ehd.vdx.x001.KtKennungDocument.KtKennung)get_store().add_element_user(KTKENNUNG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U.Enum getU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U xgetU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U)get_store().find_attribute_user(U$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "U" attribute
+         */
+        public void setU(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U.Enum u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(U$4);
+                }
+                target.setEnumValue(u);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        public void xsetU(ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U)get_store().add_attribute_user(U$4);
+                }
+                target.set(u);
+            }
+        }
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungsbedarfListeTyp$KtLeistungsbedarf$U.
+         */
+        public static class UImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.LeistungsbedarfListeTyp.KtLeistungsbedarf.U
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+    /**
+     * An XML ms_leistungsbedarf(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class MsLeistungsbedarfImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public MsLeistungsbedarfImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LBHONMSKENNUNG$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "lb_hon_ms_kennung");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName U$4 = 
+            new javax.xml.namespace.QName("", "U");
+        
+        
+        /**
+         * Gets the "lb_hon_ms_kennung" element
+         */
+        public ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung getLbHonMsKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung target = null;
+                target = (ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung)get_store().find_element_user(LBHONMSKENNUNG$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "lb_hon_ms_kennung" element
+         */
+        public void setLbHonMsKennung(ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung lbHonMsKennung)
+        {
+            generatedSetterHelperImpl(lbHonMsKennung, LBHONMSKENNUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "lb_hon_ms_kennung" element
+         */
+        public ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung addNewLbHonMsKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung target = null;
+                target = (ehd.vdx.x001.LbHonMsKennungDocument.LbHonMsKennung)get_store().add_element_user(LBHONMSKENNUNG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U.Enum getU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "U" attribute
+         */
+        public ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U xgetU()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U)get_store().find_attribute_user(U$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "U" attribute
+         */
+        public void setU(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U.Enum u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(U$4);
+                }
+                target.setEnumValue(u);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "U" attribute
+         */
+        public void xsetU(ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U u)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U)get_store().find_attribute_user(U$4);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U)get_store().add_attribute_user(U$4);
+                }
+                target.set(u);
+            }
+        }
+        /**
+         * An XML U(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.LeistungsbedarfListeTyp$MsLeistungsbedarf$U.
+         */
+        public static class UImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.LeistungsbedarfListeTyp.MsLeistungsbedarf.U
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public UImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected UImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
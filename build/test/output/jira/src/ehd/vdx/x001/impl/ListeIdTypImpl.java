@@ -0,0 +1,156 @@
+/*
+ * XML Type:  liste_id_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ListeIdTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML liste_id_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class ListeIdTypImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.ListeIdTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ListeIdTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName EX$0 = 
+        new javax.xml.namespace.QName("", "EX");
+    
+    
+    /**
+     * Gets the "EX" attribute
+     */
+    public java.lang.String getEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "EX" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "EX" attribute
+     */
+    public boolean isSetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(EX$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "EX" attribute
+     */
+    public void setEX(java.lang.String ex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+            }
+            target.setStringValue(ex);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "EX" attribute
+     */
+    public void xsetEX(org.apache.xmlbeans.XmlString ex)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+            }
+            target.set(ex);
+        }
+    }
+    
+    /**
+     * Unsets the "EX" attribute
+     */
+    public void unsetEX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(EX$0);
+        }
+    }
+    /**
+     * An XML EX(@).
+     *
+     * This is an atomic type that is a restriction of ehd.vdx.x001.ListeIdTyp$EX.
+     */
+    public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.ListeIdTyp.EX
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public EXImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+    /**
+     * An XML RT(@).
+     *
+     * This is an atomic type that is a restriction of ehd.vdx.x001.ListeIdTyp$RT.
+     */
+    public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.ListeIdTyp.RT
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RTImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * XML Type:  local_header-cont.model
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LocalHeaderContModel
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML local_header-cont.model(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class LocalHeaderContModelImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LocalHeaderContModel
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalHeaderContModelImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName IGNORE$0 = 
+        new javax.xml.namespace.QName("", "ignore");
+    private static final javax.xml.namespace.QName DESCRIPTOR$2 = 
+        new javax.xml.namespace.QName("", "descriptor");
+    private static final javax.xml.namespace.QName RENDER$4 = 
+        new javax.xml.namespace.QName("", "render");
+    
+    
+    /**
+     * Gets the "ignore" attribute
+     */
+    public ehd.vdx.x001.IgnoreTyp.Enum getIgnore()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(IGNORE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(IGNORE$0);
+            }
+            if (target == null)
+            {
+                return null;
+            }
+            return (ehd.vdx.x001.IgnoreTyp.Enum)target.getEnumValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "ignore" attribute
+     */
+    public ehd.vdx.x001.IgnoreTyp xgetIgnore()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IgnoreTyp target = null;
+            target = (ehd.vdx.x001.IgnoreTyp)get_store().find_attribute_user(IGNORE$0);
+            if (target == null)
+            {
+                target = (ehd.vdx.x001.IgnoreTyp)get_default_attribute_value(IGNORE$0);
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "ignore" attribute
+     */
+    public boolean isSetIgnore()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(IGNORE$0) != null;
+        }
+    }
+    
+    /**
+     * Sets the "ignore" attribute
+     */
+    public void setIgnore(ehd.vdx.x001.IgnoreTyp.Enum ignore)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(IGNORE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(IGNORE$0);
+            }
+            target.setEnumValue(ignore);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "ignore" attribute
+     */
+    public void xsetIgnore(ehd.vdx.x001.IgnoreTyp ignore)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IgnoreTyp target = null;
+            target = (ehd.vdx.x001.IgnoreTyp)get_store().find_attribute_user(IGNORE$0);
+            if (target == null)
+            {
+                target = (ehd.vdx.x001.IgnoreTyp)get_store().add_attribute_user(IGNORE$0);
+            }
+            target.set(ignore);
+        }
+    }
+    
+    /**
+     * Unsets the "ignore" attribute
+     */
+    public void unsetIgnore()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(IGNORE$0);
+        }
+    }
+    
+    /**
+     * Gets the "descriptor" attribute
+     */
+    public java.lang.String getDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DESCRIPTOR$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "descriptor" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DESCRIPTOR$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "descriptor" attribute
+     */
+    public boolean isSetDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(DESCRIPTOR$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "descriptor" attribute
+     */
+    public void setDescriptor(java.lang.String descriptor)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DESCRIPTOR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DESCRIPTOR$2);
+            }
+            target.setStringValue(descriptor);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "descriptor" attribute
+     */
+    public void xsetDescriptor(org.apache.xmlbeans.XmlString descriptor)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DESCRIPTOR$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(DESCRIPTOR$2);
+            }
+            target.set(descriptor);
+        }
+    }
+    
+    /**
+     * Unsets the "descriptor" attribute
+     */
+    public void unsetDescriptor()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(DESCRIPTOR$2);
+        }
+    }
+    
+    /**
+     * Gets the "render" attribute
+     */
+    public java.lang.String getRender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RENDER$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "render" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetRender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RENDER$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "render" attribute
+     */
+    public boolean isSetRender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(RENDER$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "render" attribute
+     */
+    public void setRender(java.lang.String render)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(RENDER$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(RENDER$4);
+            }
+            target.setStringValue(render);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "render" attribute
+     */
+    public void xsetRender(org.apache.xmlbeans.XmlString render)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(RENDER$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(RENDER$4);
+            }
+            target.set(render);
+        }
+    }
+    
+    /**
+     * Unsets the "render" attribute
+     */
+    public void unsetRender()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(RENDER$4);
+        }
+    }
+}
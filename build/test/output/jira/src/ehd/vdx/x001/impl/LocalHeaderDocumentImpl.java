@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: local_header
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.LocalHeaderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one local_header(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class LocalHeaderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.LocalHeaderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public LocalHeaderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName LOCALHEADER$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "local_header" element
+     */
+    public void setLocalHeader(ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$0);
+            return target;
+        }
+    }
+}
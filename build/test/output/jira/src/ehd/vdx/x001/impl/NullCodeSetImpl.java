@@ -0,0 +1,27 @@
+/*
+ * XML Type:  null.code.set
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.NullCodeSet
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML null.code.set(@urn:ehd/vdx/001).
+ *
+ * This is an atomic type that is a restriction of ehd.vdx.x001.NullCodeSet.
+ */
+public class NullCodeSetImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements ehd.vdx.x001.NullCodeSet
+{
+    private static final long serialVersionUID = 1L;
+    
+    public NullCodeSetImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected NullCodeSetImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: organization
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.OrganizationDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one organization(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class OrganizationDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.OrganizationDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrganizationDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ORGANIZATION$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "organization");
+    
+    
+    /**
+     * Gets the "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp getOrganization()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().find_element_user(ORGANIZATION$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "organization" element
+     */
+    public void setOrganization(ehd.vdx.x001.OrganizationTyp organization)
+    {
+        generatedSetterHelperImpl(organization, ORGANIZATION$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp addNewOrganization()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().add_element_user(ORGANIZATION$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * XML Type:  organization_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.OrganizationTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML organization_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class OrganizationTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.OrganizationTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OrganizationTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+    private static final javax.xml.namespace.QName ORGANIZATIONNM$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "organization.nm");
+    private static final javax.xml.namespace.QName ADDR$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "addr");
+    private static final javax.xml.namespace.QName TELECOM$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "telecom");
+    private static final javax.xml.namespace.QName LOCALHEADER$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "id" element
+     */
+    public ehd.vdx.x001.IdTyp getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(ID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "id" element
+     */
+    public boolean isSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ID$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(ehd.vdx.x001.IdTyp id)
+    {
+        generatedSetterHelperImpl(id, ID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "id" element
+     */
+    public ehd.vdx.x001.IdTyp addNewId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(ID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "id" element
+     */
+    public void unsetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ID$0, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "organization.nm" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getOrganizationNmArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ORGANIZATIONNM$2, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "organization.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp getOrganizationNmArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(ORGANIZATIONNM$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "organization.nm" element
+     */
+    public int sizeOfOrganizationNmArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ORGANIZATIONNM$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "organization.nm" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setOrganizationNmArray(ehd.vdx.x001.VStringTyp[] organizationNmArray)
+    {
+        check_orphaned();
+        arraySetterHelper(organizationNmArray, ORGANIZATIONNM$2);
+    }
+    
+    /**
+     * Sets ith "organization.nm" element
+     */
+    public void setOrganizationNmArray(int i, ehd.vdx.x001.VStringTyp organizationNm)
+    {
+        generatedSetterHelperImpl(organizationNm, ORGANIZATIONNM$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewOrganizationNm(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(ORGANIZATIONNM$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewOrganizationNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(ORGANIZATIONNM$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "organization.nm" element
+     */
+    public void removeOrganizationNm(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ORGANIZATIONNM$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "addr" elements
+     */
+    public ehd.vdx.x001.AddrTyp[] getAddrArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ADDR$4, targetList);
+            ehd.vdx.x001.AddrTyp[] result = new ehd.vdx.x001.AddrTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "addr" element
+     */
+    public ehd.vdx.x001.AddrTyp getAddrArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.AddrTyp target = null;
+            target = (ehd.vdx.x001.AddrTyp)get_store().find_element_user(ADDR$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "addr" element
+     */
+    public int sizeOfAddrArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ADDR$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "addr" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setAddrArray(ehd.vdx.x001.AddrTyp[] addrArray)
+    {
+        check_orphaned();
+        arraySetterHelper(addrArray, ADDR$4);
+    }
+    
+    /**
+     * Sets ith "addr" element
+     */
+    public void setAddrArray(int i, ehd.vdx.x001.AddrTyp addr)
+    {
+        generatedSetterHelperImpl(addr, ADDR$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "addr" element
+     */
+    public ehd.vdx.x001.AddrTyp insertNewAddr(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.AddrTyp target = null;
+            target = (ehd.vdx.x001.AddrTyp)get_store().insert_element_user(ADDR$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "addr" element
+     */
+    public ehd.vdx.x001.AddrTyp addNewAddr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.AddrTyp target = null;
+            target = (ehd.vdx.x001.AddrTyp)get_store().add_element_user(ADDR$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "addr" element
+     */
+    public void removeAddr(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ADDR$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "telecom" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getTelecomArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(TELECOM$6, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "telecom" element
+     */
+    public ehd.vdx.x001.VStringTyp getTelecomArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(TELECOM$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "telecom" element
+     */
+    public int sizeOfTelecomArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(TELECOM$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "telecom" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setTelecomArray(ehd.vdx.x001.VStringTyp[] telecomArray)
+    {
+        check_orphaned();
+        arraySetterHelper(telecomArray, TELECOM$6);
+    }
+    
+    /**
+     * Sets ith "telecom" element
+     */
+    public void setTelecomArray(int i, ehd.vdx.x001.VStringTyp telecom)
+    {
+        generatedSetterHelperImpl(telecom, TELECOM$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "telecom" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewTelecom(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(TELECOM$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "telecom" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewTelecom()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(TELECOM$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "telecom" element
+     */
+    public void removeTelecom(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(TELECOM$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$8, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$8);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$8, i);
+        }
+    }
+}
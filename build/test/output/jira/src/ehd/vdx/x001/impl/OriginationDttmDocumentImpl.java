@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: origination_dttm
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.OriginationDttmDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one origination_dttm(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class OriginationDttmDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.OriginationDttmDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OriginationDttmDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ORIGINATIONDTTM$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "origination_dttm");
+    
+    
+    /**
+     * Gets the "origination_dttm" element
+     */
+    public ehd.vdx.x001.OriginationDttmTyp getOriginationDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginationDttmTyp target = null;
+            target = (ehd.vdx.x001.OriginationDttmTyp)get_store().find_element_user(ORIGINATIONDTTM$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "origination_dttm" element
+     */
+    public void setOriginationDttm(ehd.vdx.x001.OriginationDttmTyp originationDttm)
+    {
+        generatedSetterHelperImpl(originationDttm, ORIGINATIONDTTM$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "origination_dttm" element
+     */
+    public ehd.vdx.x001.OriginationDttmTyp addNewOriginationDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginationDttmTyp target = null;
+            target = (ehd.vdx.x001.OriginationDttmTyp)get_store().add_element_user(ORIGINATIONDTTM$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  origination_dttm_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.OriginationDttmTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML origination_dttm_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class OriginationDttmTypImpl extends ehd.vdx.x001.impl.VDateTypImpl implements ehd.vdx.x001.OriginationDttmTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OriginationDttmTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
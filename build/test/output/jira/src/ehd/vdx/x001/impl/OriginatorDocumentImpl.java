@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: originator
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.OriginatorDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one originator(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class OriginatorDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.OriginatorDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public OriginatorDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ORIGINATOR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "originator");
+    
+    
+    /**
+     * Gets the "originator" element
+     */
+    public ehd.vdx.x001.OriginatorTyp getOriginator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginatorTyp target = null;
+            target = (ehd.vdx.x001.OriginatorTyp)get_store().find_element_user(ORIGINATOR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "originator" element
+     */
+    public void setOriginator(ehd.vdx.x001.OriginatorTyp originator)
+    {
+        generatedSetterHelperImpl(originator, ORIGINATOR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "originator" element
+     */
+    public ehd.vdx.x001.OriginatorTyp addNewOriginator()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OriginatorTyp target = null;
+            target = (ehd.vdx.x001.OriginatorTyp)get_store().add_element_user(ORIGINATOR$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: participation_tmr
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ParticipationTmrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one participation_tmr(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class ParticipationTmrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ParticipationTmrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ParticipationTmrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PARTICIPATIONTMR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "participation_tmr");
+    
+    
+    /**
+     * Gets the "participation_tmr" element
+     */
+    public ehd.vdx.x001.VZeitraumTyp getParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VZeitraumTyp target = null;
+            target = (ehd.vdx.x001.VZeitraumTyp)get_store().find_element_user(PARTICIPATIONTMR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "participation_tmr" element
+     */
+    public void setParticipationTmr(ehd.vdx.x001.VZeitraumTyp participationTmr)
+    {
+        generatedSetterHelperImpl(participationTmr, PARTICIPATIONTMR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "participation_tmr" element
+     */
+    public ehd.vdx.x001.VZeitraumTyp addNewParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VZeitraumTyp target = null;
+            target = (ehd.vdx.x001.VZeitraumTyp)get_store().add_element_user(PARTICIPATIONTMR$0);
+            return target;
+        }
+    }
+}
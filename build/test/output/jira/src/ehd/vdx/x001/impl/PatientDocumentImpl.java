@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: patient
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PatientDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one patient(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class PatientDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PatientDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PatientDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PATIENT$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "patient");
+    
+    
+    /**
+     * Gets the "patient" element
+     */
+    public ehd.vdx.x001.PatientTyp getPatient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PatientTyp target = null;
+            target = (ehd.vdx.x001.PatientTyp)get_store().find_element_user(PATIENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "patient" element
+     */
+    public void setPatient(ehd.vdx.x001.PatientTyp patient)
+    {
+        generatedSetterHelperImpl(patient, PATIENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "patient" element
+     */
+    public ehd.vdx.x001.PatientTyp addNewPatient()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PatientTyp target = null;
+            target = (ehd.vdx.x001.PatientTyp)get_store().add_element_user(PATIENT$0);
+            return target;
+        }
+    }
+}
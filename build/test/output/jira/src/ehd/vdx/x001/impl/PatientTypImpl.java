@@ -0,0 +1,330 @@
+/*
+ * XML Type:  patient_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PatientTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML patient_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class PatientTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PatientTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PatientTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PATIENTTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "patient.type_cd");
+    private static final javax.xml.namespace.QName PERSON$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "person");
+    private static final javax.xml.namespace.QName BIRTHDTTM$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "birth_dttm");
+    private static final javax.xml.namespace.QName ADMINISTRATIVEGENDERCD$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "administrative_gender_cd");
+    private static final javax.xml.namespace.QName LOCALHEADER$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "patient.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp getPatientTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().find_element_user(PATIENTTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "patient.type_cd" element
+     */
+    public boolean isSetPatientTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PATIENTTYPECD$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "patient.type_cd" element
+     */
+    public void setPatientTypeCd(ehd.vdx.x001.VSStringTyp patientTypeCd)
+    {
+        generatedSetterHelperImpl(patientTypeCd, PATIENTTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "patient.type_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp addNewPatientTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().add_element_user(PATIENTTYPECD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "patient.type_cd" element
+     */
+    public void unsetPatientTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PATIENTTYPECD$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "person" element
+     */
+    public ehd.vdx.x001.PersonTyp getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().find_element_user(PERSON$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "person" element
+     */
+    public void setPerson(ehd.vdx.x001.PersonTyp person)
+    {
+        generatedSetterHelperImpl(person, PERSON$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "person" element
+     */
+    public ehd.vdx.x001.PersonTyp addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().add_element_user(PERSON$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "birth_dttm" element
+     */
+    public ehd.vdx.x001.VDateTyp getBirthDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VDateTyp target = null;
+            target = (ehd.vdx.x001.VDateTyp)get_store().find_element_user(BIRTHDTTM$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "birth_dttm" element
+     */
+    public boolean isSetBirthDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(BIRTHDTTM$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "birth_dttm" element
+     */
+    public void setBirthDttm(ehd.vdx.x001.VDateTyp birthDttm)
+    {
+        generatedSetterHelperImpl(birthDttm, BIRTHDTTM$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "birth_dttm" element
+     */
+    public ehd.vdx.x001.VDateTyp addNewBirthDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VDateTyp target = null;
+            target = (ehd.vdx.x001.VDateTyp)get_store().add_element_user(BIRTHDTTM$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "birth_dttm" element
+     */
+    public void unsetBirthDttm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(BIRTHDTTM$4, 0);
+        }
+    }
+    
+    /**
+     * Gets the "administrative_gender_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp getAdministrativeGenderCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().find_element_user(ADMINISTRATIVEGENDERCD$6, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "administrative_gender_cd" element
+     */
+    public boolean isSetAdministrativeGenderCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ADMINISTRATIVEGENDERCD$6) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "administrative_gender_cd" element
+     */
+    public void setAdministrativeGenderCd(ehd.vdx.x001.VSStringTyp administrativeGenderCd)
+    {
+        generatedSetterHelperImpl(administrativeGenderCd, ADMINISTRATIVEGENDERCD$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "administrative_gender_cd" element
+     */
+    public ehd.vdx.x001.VSStringTyp addNewAdministrativeGenderCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VSStringTyp target = null;
+            target = (ehd.vdx.x001.VSStringTyp)get_store().add_element_user(ADMINISTRATIVEGENDERCD$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "administrative_gender_cd" element
+     */
+    public void unsetAdministrativeGenderCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ADMINISTRATIVEGENDERCD$6, 0);
+        }
+    }
+    
+    /**
+     * Gets the "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$8, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "local_header" element
+     */
+    public boolean isSetLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$8) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "local_header" element
+     */
+    public void setLocalHeader(ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "local_header" element
+     */
+    public void unsetLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$8, 0);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: person
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one person(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class PersonDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PersonDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "person");
+    
+    
+    /**
+     * Gets the "person" element
+     */
+    public ehd.vdx.x001.PersonTyp getPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().find_element_user(PERSON$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "person" element
+     */
+    public void setPerson(ehd.vdx.x001.PersonTyp person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "person" element
+     */
+    public ehd.vdx.x001.PersonTyp addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: person_name
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonNameDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one person_name(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class PersonNameDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PersonNameDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonNameDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSONNAME$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "person_name");
+    
+    
+    /**
+     * Gets the "person_name" element
+     */
+    public ehd.vdx.x001.PersonNameTyp getPersonName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonNameTyp target = null;
+            target = (ehd.vdx.x001.PersonNameTyp)get_store().find_element_user(PERSONNAME$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "person_name" element
+     */
+    public void setPersonName(ehd.vdx.x001.PersonNameTyp personName)
+    {
+        generatedSetterHelperImpl(personName, PERSONNAME$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "person_name" element
+     */
+    public ehd.vdx.x001.PersonNameTyp addNewPersonName()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonNameTyp target = null;
+            target = (ehd.vdx.x001.PersonNameTyp)get_store().add_element_user(PERSONNAME$0);
+            return target;
+        }
+    }
+}
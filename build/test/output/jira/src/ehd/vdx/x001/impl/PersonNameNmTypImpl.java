@@ -0,0 +1,654 @@
+/*
+ * XML Type:  person_name_nm_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonNameNmTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML person_name_nm_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class PersonNameNmTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PersonNameNmTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonNameNmTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName GIV$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "GIV");
+    private static final javax.xml.namespace.QName MID$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "MID");
+    private static final javax.xml.namespace.QName FAM$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "FAM");
+    private static final javax.xml.namespace.QName PFX$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "PFX");
+    private static final javax.xml.namespace.QName SFX$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "SFX");
+    private static final javax.xml.namespace.QName DEL$10 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "DEL");
+    
+    
+    /**
+     * Gets array of all "GIV" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getGIVArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(GIV$0, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "GIV" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getGIVArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(GIV$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "GIV" element
+     */
+    public int sizeOfGIVArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(GIV$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "GIV" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setGIVArray(ehd.vdx.x001.PnxpStringTyp[] givArray)
+    {
+        check_orphaned();
+        arraySetterHelper(givArray, GIV$0);
+    }
+    
+    /**
+     * Sets ith "GIV" element
+     */
+    public void setGIVArray(int i, ehd.vdx.x001.PnxpStringTyp giv)
+    {
+        generatedSetterHelperImpl(giv, GIV$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "GIV" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewGIV(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(GIV$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "GIV" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewGIV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(GIV$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "GIV" element
+     */
+    public void removeGIV(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(GIV$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "MID" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getMIDArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(MID$2, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "MID" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getMIDArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(MID$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "MID" element
+     */
+    public int sizeOfMIDArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(MID$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "MID" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setMIDArray(ehd.vdx.x001.PnxpStringTyp[] midArray)
+    {
+        check_orphaned();
+        arraySetterHelper(midArray, MID$2);
+    }
+    
+    /**
+     * Sets ith "MID" element
+     */
+    public void setMIDArray(int i, ehd.vdx.x001.PnxpStringTyp mid)
+    {
+        generatedSetterHelperImpl(mid, MID$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "MID" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewMID(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(MID$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "MID" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewMID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(MID$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "MID" element
+     */
+    public void removeMID(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(MID$2, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "FAM" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getFAMArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(FAM$4, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "FAM" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getFAMArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(FAM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "FAM" element
+     */
+    public int sizeOfFAMArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FAM$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "FAM" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setFAMArray(ehd.vdx.x001.PnxpStringTyp[] famArray)
+    {
+        check_orphaned();
+        arraySetterHelper(famArray, FAM$4);
+    }
+    
+    /**
+     * Sets ith "FAM" element
+     */
+    public void setFAMArray(int i, ehd.vdx.x001.PnxpStringTyp fam)
+    {
+        generatedSetterHelperImpl(fam, FAM$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "FAM" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewFAM(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(FAM$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "FAM" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewFAM()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(FAM$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "FAM" element
+     */
+    public void removeFAM(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FAM$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "PFX" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getPFXArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PFX$6, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "PFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getPFXArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(PFX$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "PFX" element
+     */
+    public int sizeOfPFXArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PFX$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "PFX" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setPFXArray(ehd.vdx.x001.PnxpStringTyp[] pfxArray)
+    {
+        check_orphaned();
+        arraySetterHelper(pfxArray, PFX$6);
+    }
+    
+    /**
+     * Sets ith "PFX" element
+     */
+    public void setPFXArray(int i, ehd.vdx.x001.PnxpStringTyp pfx)
+    {
+        generatedSetterHelperImpl(pfx, PFX$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "PFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewPFX(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(PFX$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "PFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewPFX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(PFX$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "PFX" element
+     */
+    public void removePFX(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PFX$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "SFX" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getSFXArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SFX$8, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "SFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getSFXArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(SFX$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "SFX" element
+     */
+    public int sizeOfSFXArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SFX$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "SFX" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setSFXArray(ehd.vdx.x001.PnxpStringTyp[] sfxArray)
+    {
+        check_orphaned();
+        arraySetterHelper(sfxArray, SFX$8);
+    }
+    
+    /**
+     * Sets ith "SFX" element
+     */
+    public void setSFXArray(int i, ehd.vdx.x001.PnxpStringTyp sfx)
+    {
+        generatedSetterHelperImpl(sfx, SFX$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "SFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewSFX(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(SFX$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "SFX" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewSFX()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(SFX$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "SFX" element
+     */
+    public void removeSFX(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SFX$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "DEL" elements
+     */
+    public ehd.vdx.x001.PnxpStringTyp[] getDELArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(DEL$10, targetList);
+            ehd.vdx.x001.PnxpStringTyp[] result = new ehd.vdx.x001.PnxpStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "DEL" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp getDELArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().find_element_user(DEL$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "DEL" element
+     */
+    public int sizeOfDELArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(DEL$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "DEL" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setDELArray(ehd.vdx.x001.PnxpStringTyp[] delArray)
+    {
+        check_orphaned();
+        arraySetterHelper(delArray, DEL$10);
+    }
+    
+    /**
+     * Sets ith "DEL" element
+     */
+    public void setDELArray(int i, ehd.vdx.x001.PnxpStringTyp del)
+    {
+        generatedSetterHelperImpl(del, DEL$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "DEL" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp insertNewDEL(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().insert_element_user(DEL$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "DEL" element
+     */
+    public ehd.vdx.x001.PnxpStringTyp addNewDEL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PnxpStringTyp target = null;
+            target = (ehd.vdx.x001.PnxpStringTyp)get_store().add_element_user(DEL$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "DEL" element
+     */
+    public void removeDEL(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(DEL$10, i);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * XML Type:  person_name_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PersonNameTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML person_name_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class PersonNameTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PersonNameTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PersonNameTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName NM$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "nm");
+    
+    
+    /**
+     * Gets the "nm" element
+     */
+    public ehd.vdx.x001.PersonNameNmTyp getNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonNameNmTyp target = null;
+            target = (ehd.vdx.x001.PersonNameNmTyp)get_store().find_element_user(NM$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "nm" element
+     */
+    public void setNm(ehd.vdx.x001.PersonNameNmTyp nm)
+    {
+        generatedSetterHelperImpl(nm, NM$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "nm" element
+     */
+    public ehd.vdx.x001.PersonNameNmTyp addNewNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonNameNmTyp target = null;
+            target = (ehd.vdx.x001.PersonNameNmTyp)get_store().add_element_user(NM$0);
+            return target;
+        }
+    }
+}
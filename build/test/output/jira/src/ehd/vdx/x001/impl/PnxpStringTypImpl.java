@@ -0,0 +1,188 @@
+/*
+ * XML Type:  pnxp_string_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.PnxpStringTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML pnxp_string_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class PnxpStringTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.PnxpStringTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public PnxpStringTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName V$0 = 
+        new javax.xml.namespace.QName("", "V");
+    private static final javax.xml.namespace.QName QUAL$2 = 
+        new javax.xml.namespace.QName("", "QUAL");
+    
+    
+    /**
+     * Gets the "V" attribute
+     */
+    public java.lang.String getV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "V" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "V" attribute
+     */
+    public void setV(java.lang.String v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+            }
+            target.setStringValue(v);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "V" attribute
+     */
+    public void xsetV(org.apache.xmlbeans.XmlString v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(V$0);
+            }
+            target.set(v);
+        }
+    }
+    
+    /**
+     * Gets the "QUAL" attribute
+     */
+    public java.util.List getQUAL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUAL$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getListValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "QUAL" attribute
+     */
+    public org.apache.xmlbeans.XmlNMTOKENS xgetQUAL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNMTOKENS target = null;
+            target = (org.apache.xmlbeans.XmlNMTOKENS)get_store().find_attribute_user(QUAL$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "QUAL" attribute
+     */
+    public boolean isSetQUAL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(QUAL$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "QUAL" attribute
+     */
+    public void setQUAL(java.util.List qual)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(QUAL$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(QUAL$2);
+            }
+            target.setListValue(qual);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "QUAL" attribute
+     */
+    public void xsetQUAL(org.apache.xmlbeans.XmlNMTOKENS qual)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlNMTOKENS target = null;
+            target = (org.apache.xmlbeans.XmlNMTOKENS)get_store().find_attribute_user(QUAL$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlNMTOKENS)get_store().add_attribute_user(QUAL$2);
+            }
+            target.set(qual);
+        }
+    }
+    
+    /**
+     * Unsets the "QUAL" attribute
+     */
+    public void unsetQUAL()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(QUAL$2);
+        }
+    }
+}
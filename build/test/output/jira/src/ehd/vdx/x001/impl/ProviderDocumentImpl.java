@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: provider
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ProviderDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one provider(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class ProviderDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ProviderDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProviderDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PROVIDER$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "provider");
+    
+    
+    /**
+     * Gets the "provider" element
+     */
+    public ehd.vdx.x001.ProviderTyp getProvider()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ProviderTyp target = null;
+            target = (ehd.vdx.x001.ProviderTyp)get_store().find_element_user(PROVIDER$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "provider" element
+     */
+    public void setProvider(ehd.vdx.x001.ProviderTyp provider)
+    {
+        generatedSetterHelperImpl(provider, PROVIDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "provider" element
+     */
+    public ehd.vdx.x001.ProviderTyp addNewProvider()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ProviderTyp target = null;
+            target = (ehd.vdx.x001.ProviderTyp)get_store().add_element_user(PROVIDER$0);
+            return target;
+        }
+    }
+}
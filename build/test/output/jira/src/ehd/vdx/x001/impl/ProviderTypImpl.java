@@ -0,0 +1,537 @@
+/*
+ * XML Type:  provider_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ProviderTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML provider_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class ProviderTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ProviderTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ProviderTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PROVIDERTYPECD$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "provider.type_cd");
+    private static final javax.xml.namespace.QName FUNCTIONCD$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "function_cd");
+    private static final javax.xml.namespace.QName PARTICIPATIONTMR$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "participation_tmr");
+    private static final javax.xml.namespace.QName PERSON$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "person");
+    private static final javax.xml.namespace.QName ORGANIZATION$8 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "organization");
+    private static final javax.xml.namespace.QName LOCALHEADER$10 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "provider.type_cd" element
+     */
+    public ehd.vdx.x001.ProviderTypeCdTyp getProviderTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ProviderTypeCdTyp target = null;
+            target = (ehd.vdx.x001.ProviderTypeCdTyp)get_store().find_element_user(PROVIDERTYPECD$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "provider.type_cd" element
+     */
+    public boolean isSetProviderTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PROVIDERTYPECD$0) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "provider.type_cd" element
+     */
+    public void setProviderTypeCd(ehd.vdx.x001.ProviderTypeCdTyp providerTypeCd)
+    {
+        generatedSetterHelperImpl(providerTypeCd, PROVIDERTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "provider.type_cd" element
+     */
+    public ehd.vdx.x001.ProviderTypeCdTyp addNewProviderTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ProviderTypeCdTyp target = null;
+            target = (ehd.vdx.x001.ProviderTypeCdTyp)get_store().add_element_user(PROVIDERTYPECD$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "provider.type_cd" element
+     */
+    public void unsetProviderTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PROVIDERTYPECD$0, 0);
+        }
+    }
+    
+    /**
+     * Gets the "function_cd" element
+     */
+    public ehd.vdx.x001.FunctionCdTyp getFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FunctionCdTyp target = null;
+            target = (ehd.vdx.x001.FunctionCdTyp)get_store().find_element_user(FUNCTIONCD$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "function_cd" element
+     */
+    public boolean isSetFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(FUNCTIONCD$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "function_cd" element
+     */
+    public void setFunctionCd(ehd.vdx.x001.FunctionCdTyp functionCd)
+    {
+        generatedSetterHelperImpl(functionCd, FUNCTIONCD$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "function_cd" element
+     */
+    public ehd.vdx.x001.FunctionCdTyp addNewFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.FunctionCdTyp target = null;
+            target = (ehd.vdx.x001.FunctionCdTyp)get_store().add_element_user(FUNCTIONCD$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "function_cd" element
+     */
+    public void unsetFunctionCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(FUNCTIONCD$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "participation_tmr" element
+     */
+    public ehd.vdx.x001.VZeitraumTyp getParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VZeitraumTyp target = null;
+            target = (ehd.vdx.x001.VZeitraumTyp)get_store().find_element_user(PARTICIPATIONTMR$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "participation_tmr" element
+     */
+    public boolean isSetParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PARTICIPATIONTMR$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "participation_tmr" element
+     */
+    public void setParticipationTmr(ehd.vdx.x001.VZeitraumTyp participationTmr)
+    {
+        generatedSetterHelperImpl(participationTmr, PARTICIPATIONTMR$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "participation_tmr" element
+     */
+    public ehd.vdx.x001.VZeitraumTyp addNewParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VZeitraumTyp target = null;
+            target = (ehd.vdx.x001.VZeitraumTyp)get_store().add_element_user(PARTICIPATIONTMR$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "participation_tmr" element
+     */
+    public void unsetParticipationTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PARTICIPATIONTMR$4, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "person" elements
+     */
+    public ehd.vdx.x001.PersonTyp[] getPersonArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PERSON$6, targetList);
+            ehd.vdx.x001.PersonTyp[] result = new ehd.vdx.x001.PersonTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "person" element
+     */
+    public ehd.vdx.x001.PersonTyp getPersonArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().find_element_user(PERSON$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "person" element
+     */
+    public int sizeOfPersonArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PERSON$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "person" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setPersonArray(ehd.vdx.x001.PersonTyp[] personArray)
+    {
+        check_orphaned();
+        arraySetterHelper(personArray, PERSON$6);
+    }
+    
+    /**
+     * Sets ith "person" element
+     */
+    public void setPersonArray(int i, ehd.vdx.x001.PersonTyp person)
+    {
+        generatedSetterHelperImpl(person, PERSON$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "person" element
+     */
+    public ehd.vdx.x001.PersonTyp insertNewPerson(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().insert_element_user(PERSON$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "person" element
+     */
+    public ehd.vdx.x001.PersonTyp addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().add_element_user(PERSON$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "person" element
+     */
+    public void removePerson(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PERSON$6, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "organization" elements
+     */
+    public ehd.vdx.x001.OrganizationTyp[] getOrganizationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ORGANIZATION$8, targetList);
+            ehd.vdx.x001.OrganizationTyp[] result = new ehd.vdx.x001.OrganizationTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp getOrganizationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().find_element_user(ORGANIZATION$8, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "organization" element
+     */
+    public int sizeOfOrganizationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ORGANIZATION$8);
+        }
+    }
+    
+    /**
+     * Sets array of all "organization" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setOrganizationArray(ehd.vdx.x001.OrganizationTyp[] organizationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(organizationArray, ORGANIZATION$8);
+    }
+    
+    /**
+     * Sets ith "organization" element
+     */
+    public void setOrganizationArray(int i, ehd.vdx.x001.OrganizationTyp organization)
+    {
+        generatedSetterHelperImpl(organization, ORGANIZATION$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp insertNewOrganization(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().insert_element_user(ORGANIZATION$8, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp addNewOrganization()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().add_element_user(ORGANIZATION$8);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "organization" element
+     */
+    public void removeOrganization(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ORGANIZATION$8, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$10, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$10, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$10);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$10);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$10, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$10, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$10);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$10, i);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * An XML document type.
+ * Localname: regelleistungsvolumen
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.RegelleistungsvolumenDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one regelleistungsvolumen(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class RegelleistungsvolumenDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.RegelleistungsvolumenDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RegelleistungsvolumenDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName REGELLEISTUNGSVOLUMEN$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "regelleistungsvolumen");
+    
+    
+    /**
+     * Gets the "regelleistungsvolumen" element
+     */
+    public ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen getRegelleistungsvolumen()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen target = null;
+            target = (ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen)get_store().find_element_user(REGELLEISTUNGSVOLUMEN$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "regelleistungsvolumen" element
+     */
+    public void setRegelleistungsvolumen(ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen regelleistungsvolumen)
+    {
+        generatedSetterHelperImpl(regelleistungsvolumen, REGELLEISTUNGSVOLUMEN$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "regelleistungsvolumen" element
+     */
+    public ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen addNewRegelleistungsvolumen()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen target = null;
+            target = (ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen)get_store().add_element_user(REGELLEISTUNGSVOLUMEN$0);
+            return target;
+        }
+    }
+    /**
+     * An XML regelleistungsvolumen(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class RegelleistungsvolumenImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RegelleistungsvolumenImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public int getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(int v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setIntValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlInt v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+    }
+}
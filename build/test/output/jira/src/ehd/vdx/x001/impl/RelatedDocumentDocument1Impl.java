@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: related_document
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.RelatedDocumentDocument1
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one related_document(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class RelatedDocumentDocument1Impl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.RelatedDocumentDocument1
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RelatedDocumentDocument1Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName RELATEDDOCUMENT$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "related_document");
+    
+    
+    /**
+     * Gets the "related_document" element
+     */
+    public ehd.vdx.x001.RelatedDocumentTyp getRelatedDocument()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RelatedDocumentTyp target = null;
+            target = (ehd.vdx.x001.RelatedDocumentTyp)get_store().find_element_user(RELATEDDOCUMENT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "related_document" element
+     */
+    public void setRelatedDocument(ehd.vdx.x001.RelatedDocumentTyp relatedDocument)
+    {
+        generatedSetterHelperImpl(relatedDocument, RELATEDDOCUMENT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "related_document" element
+     */
+    public ehd.vdx.x001.RelatedDocumentTyp addNewRelatedDocument()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.RelatedDocumentTyp target = null;
+            target = (ehd.vdx.x001.RelatedDocumentTyp)get_store().add_element_user(RELATEDDOCUMENT$0);
+            return target;
+        }
+    }
+}
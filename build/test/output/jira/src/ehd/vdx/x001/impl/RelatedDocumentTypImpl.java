@@ -0,0 +1,303 @@
+/*
+ * XML Type:  related_document_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.RelatedDocumentTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML related_document_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class RelatedDocumentTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.RelatedDocumentTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RelatedDocumentTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+    private static final javax.xml.namespace.QName SETID$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "set_id");
+    private static final javax.xml.namespace.QName VERSIONNBR$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "version_nbr");
+    private static final javax.xml.namespace.QName LOCALHEADER$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets the "id" element
+     */
+    public ehd.vdx.x001.IdTyp getId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(ID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "id" element
+     */
+    public void setId(ehd.vdx.x001.IdTyp id)
+    {
+        generatedSetterHelperImpl(id, ID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "id" element
+     */
+    public ehd.vdx.x001.IdTyp addNewId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(ID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets the "set_id" element
+     */
+    public ehd.vdx.x001.IdTyp getSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(SETID$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "set_id" element
+     */
+    public boolean isSetSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SETID$2) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "set_id" element
+     */
+    public void setSetId(ehd.vdx.x001.IdTyp setId)
+    {
+        generatedSetterHelperImpl(setId, SETID$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "set_id" element
+     */
+    public ehd.vdx.x001.IdTyp addNewSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(SETID$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "set_id" element
+     */
+    public void unsetSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SETID$2, 0);
+        }
+    }
+    
+    /**
+     * Gets the "version_nbr" element
+     */
+    public ehd.vdx.x001.VersionNbrTyp getVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VersionNbrTyp target = null;
+            target = (ehd.vdx.x001.VersionNbrTyp)get_store().find_element_user(VERSIONNBR$4, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "version_nbr" element
+     */
+    public boolean isSetVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(VERSIONNBR$4) != 0;
+        }
+    }
+    
+    /**
+     * Sets the "version_nbr" element
+     */
+    public void setVersionNbr(ehd.vdx.x001.VersionNbrTyp versionNbr)
+    {
+        generatedSetterHelperImpl(versionNbr, VERSIONNBR$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "version_nbr" element
+     */
+    public ehd.vdx.x001.VersionNbrTyp addNewVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VersionNbrTyp target = null;
+            target = (ehd.vdx.x001.VersionNbrTyp)get_store().add_element_user(VERSIONNBR$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Unsets the "version_nbr" element
+     */
+    public void unsetVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(VERSIONNBR$4, 0);
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$6, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$6);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$6, i);
+        }
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * XML Type:  schein_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ScheinListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML schein_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class ScheinListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.ScheinListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ScheinListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SCHEIN$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "schein");
+    
+    
+    /**
+     * Gets array of all "schein" elements
+     */
+    public ehd.vdx.x001.ScheinListeTyp.Schein[] getScheinArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SCHEIN$0, targetList);
+            ehd.vdx.x001.ScheinListeTyp.Schein[] result = new ehd.vdx.x001.ScheinListeTyp.Schein[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "schein" element
+     */
+    public ehd.vdx.x001.ScheinListeTyp.Schein getScheinArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScheinListeTyp.Schein target = null;
+            target = (ehd.vdx.x001.ScheinListeTyp.Schein)get_store().find_element_user(SCHEIN$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "schein" element
+     */
+    public int sizeOfScheinArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SCHEIN$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "schein" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setScheinArray(ehd.vdx.x001.ScheinListeTyp.Schein[] scheinArray)
+    {
+        check_orphaned();
+        arraySetterHelper(scheinArray, SCHEIN$0);
+    }
+    
+    /**
+     * Sets ith "schein" element
+     */
+    public void setScheinArray(int i, ehd.vdx.x001.ScheinListeTyp.Schein schein)
+    {
+        generatedSetterHelperImpl(schein, SCHEIN$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "schein" element
+     */
+    public ehd.vdx.x001.ScheinListeTyp.Schein insertNewSchein(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScheinListeTyp.Schein target = null;
+            target = (ehd.vdx.x001.ScheinListeTyp.Schein)get_store().insert_element_user(SCHEIN$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "schein" element
+     */
+    public ehd.vdx.x001.ScheinListeTyp.Schein addNewSchein()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScheinListeTyp.Schein target = null;
+            target = (ehd.vdx.x001.ScheinListeTyp.Schein)get_store().add_element_user(SCHEIN$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "schein" element
+     */
+    public void removeSchein(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SCHEIN$0, i);
+        }
+    }
+    /**
+     * An XML schein(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class ScheinImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ScheinListeTyp.Schein
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ScheinImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LEISTUNGLISTE$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistung_liste");
+        private static final javax.xml.namespace.QName DIAGNOSELISTE$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "diagnose_liste");
+        private static final javax.xml.namespace.QName V$4 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName S$6 = 
+            new javax.xml.namespace.QName("", "S");
+        
+        
+        /**
+         * Gets the "leistung_liste" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp getLeistungListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp)get_store().find_element_user(LEISTUNGLISTE$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "leistung_liste" element
+         */
+        public void setLeistungListe(ehd.vdx.x001.LeistungListeTyp leistungListe)
+        {
+            generatedSetterHelperImpl(leistungListe, LEISTUNGLISTE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "leistung_liste" element
+         */
+        public ehd.vdx.x001.LeistungListeTyp addNewLeistungListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungListeTyp target = null;
+                target = (ehd.vdx.x001.LeistungListeTyp)get_store().add_element_user(LEISTUNGLISTE$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "diagnose_liste" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp getDiagnoseListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp)get_store().find_element_user(DIAGNOSELISTE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "diagnose_liste" element
+         */
+        public boolean isSetDiagnoseListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(DIAGNOSELISTE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "diagnose_liste" element
+         */
+        public void setDiagnoseListe(ehd.vdx.x001.DiagnoseListeTyp diagnoseListe)
+        {
+            generatedSetterHelperImpl(diagnoseListe, DIAGNOSELISTE$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "diagnose_liste" element
+         */
+        public ehd.vdx.x001.DiagnoseListeTyp addNewDiagnoseListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.DiagnoseListeTyp target = null;
+                target = (ehd.vdx.x001.DiagnoseListeTyp)get_store().add_element_user(DIAGNOSELISTE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "diagnose_liste" element
+         */
+        public void unsetDiagnoseListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(DIAGNOSELISTE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$4);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.ScheinListeTyp.Schein.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ScheinListeTyp.Schein.V target = null;
+                target = (ehd.vdx.x001.ScheinListeTyp.Schein.V)get_store().find_attribute_user(V$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$4);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.ScheinListeTyp.Schein.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ScheinListeTyp.Schein.V target = null;
+                target = (ehd.vdx.x001.ScheinListeTyp.Schein.V)get_store().find_attribute_user(V$4);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.ScheinListeTyp.Schein.V)get_store().add_attribute_user(V$4);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "S" attribute
+         */
+        public java.lang.String getS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$6);
+                }
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "S" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$6);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "S" attribute
+         */
+        public boolean isSetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(S$6) != null;
+            }
+        }
+        
+        /**
+         * Sets the "S" attribute
+         */
+        public void setS(java.lang.String s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$6);
+                }
+                target.setStringValue(s);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "S" attribute
+         */
+        public void xsetS(org.apache.xmlbeans.XmlString s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$6);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$6);
+                }
+                target.set(s);
+            }
+        }
+        
+        /**
+         * Unsets the "S" attribute
+         */
+        public void unsetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(S$6);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.ScheinListeTyp$Schein$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.ScheinListeTyp.Schein.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: scope
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ScopeDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one scope(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class ScopeDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ScopeDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ScopeDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SCOPE$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "scope");
+    
+    
+    /**
+     * Gets the "scope" element
+     */
+    public ehd.vdx.x001.ScopeTyp getScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeTyp target = null;
+            target = (ehd.vdx.x001.ScopeTyp)get_store().find_element_user(SCOPE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "scope" element
+     */
+    public void setScope(ehd.vdx.x001.ScopeTyp scope)
+    {
+        generatedSetterHelperImpl(scope, SCOPE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "scope" element
+     */
+    public ehd.vdx.x001.ScopeTyp addNewScope()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeTyp target = null;
+            target = (ehd.vdx.x001.ScopeTyp)get_store().add_element_user(SCOPE$0);
+            return target;
+        }
+    }
+}
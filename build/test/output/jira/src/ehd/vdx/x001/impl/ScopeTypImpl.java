@@ -0,0 +1,381 @@
+/*
+ * XML Type:  scope_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ScopeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML scope_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class ScopeTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ScopeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ScopeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+    private static final javax.xml.namespace.QName SCOPETYPECD$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "scope.type_cd");
+    private static final javax.xml.namespace.QName SCOPENM$4 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "scope.nm");
+    private static final javax.xml.namespace.QName LOCALHEADER$6 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+    
+    
+    /**
+     * Gets array of all "id" elements
+     */
+    public ehd.vdx.x001.ScopeIdTyp[] getIdArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ID$0, targetList);
+            ehd.vdx.x001.ScopeIdTyp[] result = new ehd.vdx.x001.ScopeIdTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "id" element
+     */
+    public ehd.vdx.x001.ScopeIdTyp getIdArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeIdTyp target = null;
+            target = (ehd.vdx.x001.ScopeIdTyp)get_store().find_element_user(ID$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "id" element
+     */
+    public int sizeOfIdArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ID$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "id" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setIdArray(ehd.vdx.x001.ScopeIdTyp[] idArray)
+    {
+        check_orphaned();
+        arraySetterHelper(idArray, ID$0);
+    }
+    
+    /**
+     * Sets ith "id" element
+     */
+    public void setIdArray(int i, ehd.vdx.x001.ScopeIdTyp id)
+    {
+        generatedSetterHelperImpl(id, ID$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "id" element
+     */
+    public ehd.vdx.x001.ScopeIdTyp insertNewId(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeIdTyp target = null;
+            target = (ehd.vdx.x001.ScopeIdTyp)get_store().insert_element_user(ID$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "id" element
+     */
+    public ehd.vdx.x001.ScopeIdTyp addNewId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeIdTyp target = null;
+            target = (ehd.vdx.x001.ScopeIdTyp)get_store().add_element_user(ID$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "id" element
+     */
+    public void removeId(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ID$0, i);
+        }
+    }
+    
+    /**
+     * Gets the "scope.type_cd" element
+     */
+    public ehd.vdx.x001.ScopeTypeCdTyp getScopeTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeTypeCdTyp target = null;
+            target = (ehd.vdx.x001.ScopeTypeCdTyp)get_store().find_element_user(SCOPETYPECD$2, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "scope.type_cd" element
+     */
+    public void setScopeTypeCd(ehd.vdx.x001.ScopeTypeCdTyp scopeTypeCd)
+    {
+        generatedSetterHelperImpl(scopeTypeCd, SCOPETYPECD$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "scope.type_cd" element
+     */
+    public ehd.vdx.x001.ScopeTypeCdTyp addNewScopeTypeCd()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ScopeTypeCdTyp target = null;
+            target = (ehd.vdx.x001.ScopeTypeCdTyp)get_store().add_element_user(SCOPETYPECD$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Gets array of all "scope.nm" elements
+     */
+    public ehd.vdx.x001.VStringTyp[] getScopeNmArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(SCOPENM$4, targetList);
+            ehd.vdx.x001.VStringTyp[] result = new ehd.vdx.x001.VStringTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "scope.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp getScopeNmArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(SCOPENM$4, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "scope.nm" element
+     */
+    public int sizeOfScopeNmArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(SCOPENM$4);
+        }
+    }
+    
+    /**
+     * Sets array of all "scope.nm" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setScopeNmArray(ehd.vdx.x001.VStringTyp[] scopeNmArray)
+    {
+        check_orphaned();
+        arraySetterHelper(scopeNmArray, SCOPENM$4);
+    }
+    
+    /**
+     * Sets ith "scope.nm" element
+     */
+    public void setScopeNmArray(int i, ehd.vdx.x001.VStringTyp scopeNm)
+    {
+        generatedSetterHelperImpl(scopeNm, SCOPENM$4, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "scope.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp insertNewScopeNm(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().insert_element_user(SCOPENM$4, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "scope.nm" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewScopeNm()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(SCOPENM$4);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "scope.nm" element
+     */
+    public void removeScopeNm(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(SCOPENM$4, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "local_header" elements
+     */
+    public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(LOCALHEADER$6, targetList);
+            ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$6, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "local_header" element
+     */
+    public int sizeOfLocalHeaderArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(LOCALHEADER$6);
+        }
+    }
+    
+    /**
+     * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+    {
+        check_orphaned();
+        arraySetterHelper(localHeaderArray, LOCALHEADER$6);
+    }
+    
+    /**
+     * Sets ith "local_header" element
+     */
+    public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+    {
+        generatedSetterHelperImpl(localHeader, LOCALHEADER$6, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$6, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "local_header" element
+     */
+    public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.LocalHeaderContModel target = null;
+            target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$6);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "local_header" element
+     */
+    public void removeLocalHeader(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(LOCALHEADER$6, i);
+        }
+    }
+}
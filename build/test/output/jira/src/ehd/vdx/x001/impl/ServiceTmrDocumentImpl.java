@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: service_tmr
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ServiceTmrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one service_tmr(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class ServiceTmrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.ServiceTmrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ServiceTmrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SERVICETMR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "service_tmr");
+    
+    
+    /**
+     * Gets the "service_tmr" element
+     */
+    public ehd.vdx.x001.ServiceTmrTyp getServiceTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ServiceTmrTyp target = null;
+            target = (ehd.vdx.x001.ServiceTmrTyp)get_store().find_element_user(SERVICETMR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "service_tmr" element
+     */
+    public void setServiceTmr(ehd.vdx.x001.ServiceTmrTyp serviceTmr)
+    {
+        generatedSetterHelperImpl(serviceTmr, SERVICETMR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "service_tmr" element
+     */
+    public ehd.vdx.x001.ServiceTmrTyp addNewServiceTmr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ServiceTmrTyp target = null;
+            target = (ehd.vdx.x001.ServiceTmrTyp)get_store().add_element_user(SERVICETMR$0);
+            return target;
+        }
+    }
+}
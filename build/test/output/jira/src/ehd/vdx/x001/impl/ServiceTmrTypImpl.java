@@ -0,0 +1,24 @@
+/*
+ * XML Type:  service_tmr_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ServiceTmrTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML service_tmr_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class ServiceTmrTypImpl extends ehd.vdx.x001.impl.VZeitraumTypImpl implements ehd.vdx.x001.ServiceTmrTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ServiceTmrTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
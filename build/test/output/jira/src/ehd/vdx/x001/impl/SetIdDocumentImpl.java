@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: set_id
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.SetIdDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one set_id(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class SetIdDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.SetIdDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public SetIdDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SETID$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "set_id");
+    
+    
+    /**
+     * Gets the "set_id" element
+     */
+    public ehd.vdx.x001.IdTyp getSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(SETID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "set_id" element
+     */
+    public void setSetId(ehd.vdx.x001.IdTyp setId)
+    {
+        generatedSetterHelperImpl(setId, SETID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "set_id" element
+     */
+    public ehd.vdx.x001.IdTyp addNewSetId()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.IdTyp target = null;
+            target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(SETID$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: state
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.StateDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one state(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class StateDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.StateDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StateDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName STATE$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "state");
+    
+    
+    /**
+     * Gets the "state" element
+     */
+    public ehd.vdx.x001.StateTyp getState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.StateTyp target = null;
+            target = (ehd.vdx.x001.StateTyp)get_store().find_element_user(STATE$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "state" element
+     */
+    public void setState(ehd.vdx.x001.StateTyp state)
+    {
+        generatedSetterHelperImpl(state, STATE$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "state" element
+     */
+    public ehd.vdx.x001.StateTyp addNewState()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.StateTyp target = null;
+            target = (ehd.vdx.x001.StateTyp)get_store().add_element_user(STATE$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: TRANSLTN
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.TRANSLTNDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one TRANSLTN(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class TRANSLTNDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.TRANSLTNDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TRANSLTNDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TRANSLTN$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "TRANSLTN");
+    
+    
+    /**
+     * Gets the "TRANSLTN" element
+     */
+    public ehd.vdx.x001.TransltnTyp getTRANSLTN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.TransltnTyp target = null;
+            target = (ehd.vdx.x001.TransltnTyp)get_store().find_element_user(TRANSLTN$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TRANSLTN" element
+     */
+    public void setTRANSLTN(ehd.vdx.x001.TransltnTyp transltn)
+    {
+        generatedSetterHelperImpl(transltn, TRANSLTN$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TRANSLTN" element
+     */
+    public ehd.vdx.x001.TransltnTyp addNewTRANSLTN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.TransltnTyp target = null;
+            target = (ehd.vdx.x001.TransltnTyp)get_store().add_element_user(TRANSLTN$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: telecom
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.TelecomDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one telecom(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class TelecomDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.TelecomDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TelecomDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TELECOM$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "telecom");
+    
+    
+    /**
+     * Gets the "telecom" element
+     */
+    public ehd.vdx.x001.VStringTyp getTelecom()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().find_element_user(TELECOM$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "telecom" element
+     */
+    public void setTelecom(ehd.vdx.x001.VStringTyp telecom)
+    {
+        generatedSetterHelperImpl(telecom, TELECOM$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "telecom" element
+     */
+    public ehd.vdx.x001.VStringTyp addNewTelecom()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VStringTyp target = null;
+            target = (ehd.vdx.x001.VStringTyp)get_store().add_element_user(TELECOM$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * XML Type:  transltn_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.TransltnTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML transltn_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class TransltnTypImpl extends ehd.vdx.x001.impl.VSStringTypImpl implements ehd.vdx.x001.TransltnTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TransltnTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    
+}
@@ -0,0 +1,470 @@
+/*
+ * XML Type:  v_s_string_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VSStringTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML v_s_string_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class VSStringTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VSStringTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VSStringTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName V$0 = 
+        new javax.xml.namespace.QName("", "V");
+    private static final javax.xml.namespace.QName DN$2 = 
+        new javax.xml.namespace.QName("", "DN");
+    private static final javax.xml.namespace.QName S$4 = 
+        new javax.xml.namespace.QName("", "S");
+    private static final javax.xml.namespace.QName SN$6 = 
+        new javax.xml.namespace.QName("", "SN");
+    private static final javax.xml.namespace.QName SV$8 = 
+        new javax.xml.namespace.QName("", "SV");
+    
+    
+    /**
+     * Gets the "V" attribute
+     */
+    public java.lang.String getV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "V" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "V" attribute
+     */
+    public void setV(java.lang.String v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+            }
+            target.setStringValue(v);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "V" attribute
+     */
+    public void xsetV(org.apache.xmlbeans.XmlString v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(V$0);
+            }
+            target.set(v);
+        }
+    }
+    
+    /**
+     * Gets the "DN" attribute
+     */
+    public java.lang.String getDN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "DN" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetDN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DN$2);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "DN" attribute
+     */
+    public boolean isSetDN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(DN$2) != null;
+        }
+    }
+    
+    /**
+     * Sets the "DN" attribute
+     */
+    public void setDN(java.lang.String dn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DN$2);
+            }
+            target.setStringValue(dn);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "DN" attribute
+     */
+    public void xsetDN(org.apache.xmlbeans.XmlString dn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DN$2);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(DN$2);
+            }
+            target.set(dn);
+        }
+    }
+    
+    /**
+     * Unsets the "DN" attribute
+     */
+    public void unsetDN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(DN$2);
+        }
+    }
+    
+    /**
+     * Gets the "S" attribute
+     */
+    public java.lang.String getS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$4);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "S" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$4);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "S" attribute
+     */
+    public boolean isSetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(S$4) != null;
+        }
+    }
+    
+    /**
+     * Sets the "S" attribute
+     */
+    public void setS(java.lang.String s)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$4);
+            }
+            target.setStringValue(s);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "S" attribute
+     */
+    public void xsetS(org.apache.xmlbeans.XmlString s)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$4);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$4);
+            }
+            target.set(s);
+        }
+    }
+    
+    /**
+     * Unsets the "S" attribute
+     */
+    public void unsetS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(S$4);
+        }
+    }
+    
+    /**
+     * Gets the "SN" attribute
+     */
+    public java.lang.String getSN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SN$6);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SN" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetSN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SN$6);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "SN" attribute
+     */
+    public boolean isSetSN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(SN$6) != null;
+        }
+    }
+    
+    /**
+     * Sets the "SN" attribute
+     */
+    public void setSN(java.lang.String sn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SN$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SN$6);
+            }
+            target.setStringValue(sn);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SN" attribute
+     */
+    public void xsetSN(org.apache.xmlbeans.XmlString sn)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SN$6);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(SN$6);
+            }
+            target.set(sn);
+        }
+    }
+    
+    /**
+     * Unsets the "SN" attribute
+     */
+    public void unsetSN()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(SN$6);
+        }
+    }
+    
+    /**
+     * Gets the "SV" attribute
+     */
+    public java.lang.String getSV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SV$8);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "SV" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetSV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SV$8);
+            return target;
+        }
+    }
+    
+    /**
+     * True if has "SV" attribute
+     */
+    public boolean isSetSV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().find_attribute_user(SV$8) != null;
+        }
+    }
+    
+    /**
+     * Sets the "SV" attribute
+     */
+    public void setSV(java.lang.String sv)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(SV$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(SV$8);
+            }
+            target.setStringValue(sv);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "SV" attribute
+     */
+    public void xsetSV(org.apache.xmlbeans.XmlString sv)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(SV$8);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(SV$8);
+            }
+            target.set(sv);
+        }
+    }
+    
+    /**
+     * Unsets the "SV" attribute
+     */
+    public void unsetSV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_attribute(SV$8);
+        }
+    }
+}
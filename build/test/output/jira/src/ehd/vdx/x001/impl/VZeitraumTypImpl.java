@@ -0,0 +1,94 @@
+/*
+ * XML Type:  v_zeitraum_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VZeitraumTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML v_zeitraum_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class VZeitraumTypImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VZeitraumTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VZeitraumTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName V$0 = 
+        new javax.xml.namespace.QName("", "V");
+    
+    
+    /**
+     * Gets the "V" attribute
+     */
+    public java.lang.String getV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "V" attribute
+     */
+    public ehd.vdx.x001.ZeitraumTyp xgetV()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ZeitraumTyp target = null;
+            target = (ehd.vdx.x001.ZeitraumTyp)get_store().find_attribute_user(V$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "V" attribute
+     */
+    public void setV(java.lang.String v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+            }
+            target.setStringValue(v);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "V" attribute
+     */
+    public void xsetV(ehd.vdx.x001.ZeitraumTyp v)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.ZeitraumTyp target = null;
+            target = (ehd.vdx.x001.ZeitraumTyp)get_store().find_attribute_user(V$0);
+            if (target == null)
+            {
+                target = (ehd.vdx.x001.ZeitraumTyp)get_store().add_attribute_user(V$0);
+            }
+            target.set(v);
+        }
+    }
+}
@@ -0,0 +1,538 @@
+/*
+ * An XML document type.
+ * Localname: vdx_data
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VdxDataDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one vdx_data(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class VdxDataDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VdxDataDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VdxDataDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VDXDATA$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "vdx_data");
+    
+    
+    /**
+     * Gets the "vdx_data" element
+     */
+    public ehd.vdx.x001.VdxDataDocument.VdxData getVdxData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VdxDataDocument.VdxData target = null;
+            target = (ehd.vdx.x001.VdxDataDocument.VdxData)get_store().find_element_user(VDXDATA$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "vdx_data" element
+     */
+    public void setVdxData(ehd.vdx.x001.VdxDataDocument.VdxData vdxData)
+    {
+        generatedSetterHelperImpl(vdxData, VDXDATA$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "vdx_data" element
+     */
+    public ehd.vdx.x001.VdxDataDocument.VdxData addNewVdxData()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VdxDataDocument.VdxData target = null;
+            target = (ehd.vdx.x001.VdxDataDocument.VdxData)get_store().add_element_user(VDXDATA$0);
+            return target;
+        }
+    }
+    /**
+     * An XML vdx_data(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class VdxDataImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VdxDataDocument.VdxData
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public VdxDataImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName PROVIDER$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "provider");
+        private static final javax.xml.namespace.QName FALLLISTE$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "fall_liste");
+        private static final javax.xml.namespace.QName VKNR$4 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vknr");
+        private static final javax.xml.namespace.QName VORGANGLISTE$6 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vorgang_liste");
+        private static final javax.xml.namespace.QName V$8 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName S$10 = 
+            new javax.xml.namespace.QName("", "S");
+        
+        
+        /**
+         * Gets the "provider" element
+         */
+        public ehd.vdx.x001.VdxProviderTyp getProvider()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxProviderTyp target = null;
+                target = (ehd.vdx.x001.VdxProviderTyp)get_store().find_element_user(PROVIDER$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "provider" element
+         */
+        public boolean isSetProvider()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(PROVIDER$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "provider" element
+         */
+        public void setProvider(ehd.vdx.x001.VdxProviderTyp provider)
+        {
+            generatedSetterHelperImpl(provider, PROVIDER$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "provider" element
+         */
+        public ehd.vdx.x001.VdxProviderTyp addNewProvider()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxProviderTyp target = null;
+                target = (ehd.vdx.x001.VdxProviderTyp)get_store().add_element_user(PROVIDER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "provider" element
+         */
+        public void unsetProvider()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(PROVIDER$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "fall_liste" element
+         */
+        public ehd.vdx.x001.FallListeTyp getFallListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FallListeTyp target = null;
+                target = (ehd.vdx.x001.FallListeTyp)get_store().find_element_user(FALLLISTE$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "fall_liste" element
+         */
+        public boolean isSetFallListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(FALLLISTE$2) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "fall_liste" element
+         */
+        public void setFallListe(ehd.vdx.x001.FallListeTyp fallListe)
+        {
+            generatedSetterHelperImpl(fallListe, FALLLISTE$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "fall_liste" element
+         */
+        public ehd.vdx.x001.FallListeTyp addNewFallListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.FallListeTyp target = null;
+                target = (ehd.vdx.x001.FallListeTyp)get_store().add_element_user(FALLLISTE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "fall_liste" element
+         */
+        public void unsetFallListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(FALLLISTE$2, 0);
+            }
+        }
+        
+        /**
+         * Gets the "vknr" element
+         */
+        public ehd.vdx.x001.VknrDocument.Vknr getVknr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VknrDocument.Vknr target = null;
+                target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().find_element_user(VKNR$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "vknr" element
+         */
+        public boolean isSetVknr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VKNR$4) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "vknr" element
+         */
+        public void setVknr(ehd.vdx.x001.VknrDocument.Vknr vknr)
+        {
+            generatedSetterHelperImpl(vknr, VKNR$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vknr" element
+         */
+        public ehd.vdx.x001.VknrDocument.Vknr addNewVknr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VknrDocument.Vknr target = null;
+                target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().add_element_user(VKNR$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "vknr" element
+         */
+        public void unsetVknr()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VKNR$4, 0);
+            }
+        }
+        
+        /**
+         * Gets the "vorgang_liste" element
+         */
+        public ehd.vdx.x001.VorgangListeTyp getVorgangListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangListeTyp target = null;
+                target = (ehd.vdx.x001.VorgangListeTyp)get_store().find_element_user(VORGANGLISTE$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "vorgang_liste" element
+         */
+        public boolean isSetVorgangListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VORGANGLISTE$6) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "vorgang_liste" element
+         */
+        public void setVorgangListe(ehd.vdx.x001.VorgangListeTyp vorgangListe)
+        {
+            generatedSetterHelperImpl(vorgangListe, VORGANGLISTE$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vorgang_liste" element
+         */
+        public ehd.vdx.x001.VorgangListeTyp addNewVorgangListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangListeTyp target = null;
+                target = (ehd.vdx.x001.VorgangListeTyp)get_store().add_element_user(VORGANGLISTE$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "vorgang_liste" element
+         */
+        public void unsetVorgangListe()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VORGANGLISTE$6, 0);
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$8);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.VdxDataDocument.VdxData.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxDataDocument.VdxData.V target = null;
+                target = (ehd.vdx.x001.VdxDataDocument.VdxData.V)get_store().find_attribute_user(V$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$8);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$8);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.VdxDataDocument.VdxData.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxDataDocument.VdxData.V target = null;
+                target = (ehd.vdx.x001.VdxDataDocument.VdxData.V)get_store().find_attribute_user(V$8);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.VdxDataDocument.VdxData.V)get_store().add_attribute_user(V$8);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "S" attribute
+         */
+        public java.lang.String getS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$10);
+                }
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "S" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$10);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "S" attribute
+         */
+        public boolean isSetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(S$10) != null;
+            }
+        }
+        
+        /**
+         * Sets the "S" attribute
+         */
+        public void setS(java.lang.String s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$10);
+                }
+                target.setStringValue(s);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "S" attribute
+         */
+        public void xsetS(org.apache.xmlbeans.XmlString s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$10);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$10);
+                }
+                target.set(s);
+            }
+        }
+        
+        /**
+         * Unsets the "S" attribute
+         */
+        public void unsetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(S$10);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.VdxDataDocument$VdxData$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VdxDataDocument.VdxData.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,1666 @@
+/*
+ * XML Type:  vdx_provider_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VdxProviderTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML vdx_provider_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class VdxProviderTypImpl extends ehd.vdx.x001.impl.ProviderTypImpl implements ehd.vdx.x001.VdxProviderTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VdxProviderTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName PERSON$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "person");
+    private static final javax.xml.namespace.QName ORGANIZATION$2 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "organization");
+    
+    
+    /**
+     * Gets array of all "person" elements
+     */
+    public ehd.vdx.x001.PersonTyp[] getPersonArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(PERSON$0, targetList);
+            ehd.vdx.x001.PersonTyp[] result = new ehd.vdx.x001.PersonTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "person" element
+     */
+    public ehd.vdx.x001.PersonTyp getPersonArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().find_element_user(PERSON$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "person" element
+     */
+    public int sizeOfPersonArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(PERSON$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "person" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setPersonArray(ehd.vdx.x001.PersonTyp[] personArray)
+    {
+        check_orphaned();
+        arraySetterHelper(personArray, PERSON$0);
+    }
+    
+    /**
+     * Sets ith "person" element
+     */
+    public void setPersonArray(int i, ehd.vdx.x001.PersonTyp person)
+    {
+        generatedSetterHelperImpl(person, PERSON$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "person" element
+     */
+    public ehd.vdx.x001.PersonTyp insertNewPerson(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().insert_element_user(PERSON$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "person" element
+     */
+    public ehd.vdx.x001.PersonTyp addNewPerson()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.PersonTyp target = null;
+            target = (ehd.vdx.x001.PersonTyp)get_store().add_element_user(PERSON$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "person" element
+     */
+    public void removePerson(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(PERSON$0, i);
+        }
+    }
+    
+    /**
+     * Gets array of all "organization" elements
+     */
+    public ehd.vdx.x001.OrganizationTyp[] getOrganizationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(ORGANIZATION$2, targetList);
+            ehd.vdx.x001.OrganizationTyp[] result = new ehd.vdx.x001.OrganizationTyp[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp getOrganizationArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().find_element_user(ORGANIZATION$2, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "organization" element
+     */
+    public int sizeOfOrganizationArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(ORGANIZATION$2);
+        }
+    }
+    
+    /**
+     * Sets array of all "organization" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setOrganizationArray(ehd.vdx.x001.OrganizationTyp[] organizationArray)
+    {
+        check_orphaned();
+        arraySetterHelper(organizationArray, ORGANIZATION$2);
+    }
+    
+    /**
+     * Sets ith "organization" element
+     */
+    public void setOrganizationArray(int i, ehd.vdx.x001.OrganizationTyp organization)
+    {
+        generatedSetterHelperImpl(organization, ORGANIZATION$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp insertNewOrganization(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().insert_element_user(ORGANIZATION$2, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "organization" element
+     */
+    public ehd.vdx.x001.OrganizationTyp addNewOrganization()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.OrganizationTyp target = null;
+            target = (ehd.vdx.x001.OrganizationTyp)get_store().add_element_user(ORGANIZATION$2);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "organization" element
+     */
+    public void removeOrganization(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(ORGANIZATION$2, i);
+        }
+    }
+    /**
+     * An XML person(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class PersonImpl extends ehd.vdx.x001.impl.PersonTypImpl implements ehd.vdx.x001.VdxProviderTyp.Person
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public PersonImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName LOCALHEADER$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+        
+        
+        /**
+         * Gets array of all "local_header" elements
+         */
+        public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(LOCALHEADER$0, targetList);
+                ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$0, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "local_header" element
+         */
+        public int sizeOfLocalHeaderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOCALHEADER$0);
+            }
+        }
+        
+        /**
+         * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+        {
+            check_orphaned();
+            arraySetterHelper(localHeaderArray, LOCALHEADER$0);
+        }
+        
+        /**
+         * Sets ith "local_header" element
+         */
+        public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+        {
+            generatedSetterHelperImpl(localHeader, LOCALHEADER$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$0, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "local_header" element
+         */
+        public void removeLocalHeader(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOCALHEADER$0, i);
+            }
+        }
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class IdImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.VdxProviderTyp.Person.Id
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public IdImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName EX$0 = 
+                new javax.xml.namespace.QName("", "EX");
+            
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            public java.lang.String getEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "EX" attribute
+             */
+            public boolean isSetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(EX$0) != null;
+                }
+            }
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            public void setEX(java.lang.String ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+                    }
+                    target.setStringValue(ex);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            public void xsetEX(org.apache.xmlbeans.XmlString ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+                    }
+                    target.set(ex);
+                }
+            }
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            public void unsetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(EX$0);
+                }
+            }
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Person$Id$RT.
+             */
+            public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VdxProviderTyp.Person.Id.RT
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public RTImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Person$Id$EX.
+             */
+            public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VdxProviderTyp.Person.Id.EX
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public EXImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+        /**
+         * An XML local_header(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class LocalHeaderImpl extends ehd.vdx.x001.impl.LocalHeaderContModelImpl implements ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public LocalHeaderImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName TEILNAHMESTATUS$0 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "teilnahmestatus");
+            private static final javax.xml.namespace.QName FACHGRUPPELISTE$2 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "fachgruppe_liste");
+            private static final javax.xml.namespace.QName HAFAKENNUNG$4 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "ha_fa_kennung");
+            private static final javax.xml.namespace.QName MSKENNUNG$6 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "ms_kennung");
+            
+            
+            /**
+             * Gets the "teilnahmestatus" element
+             */
+            public ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus getTeilnahmestatus()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus target = null;
+                    target = (ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus)get_store().find_element_user(TEILNAHMESTATUS$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "teilnahmestatus" element
+             */
+            public void setTeilnahmestatus(ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus teilnahmestatus)
+            {
+                generatedSetterHelperImpl(teilnahmestatus, TEILNAHMESTATUS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "teilnahmestatus" element
+             */
+            public ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus addNewTeilnahmestatus()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus target = null;
+                    target = (ehd.vdx.x001.TeilnahmestatusDocument.Teilnahmestatus)get_store().add_element_user(TEILNAHMESTATUS$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "fachgruppe_liste" element
+             */
+            public ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe getFachgruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe target = null;
+                    target = (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe)get_store().find_element_user(FACHGRUPPELISTE$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "fachgruppe_liste" element
+             */
+            public void setFachgruppeListe(ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe fachgruppeListe)
+            {
+                generatedSetterHelperImpl(fachgruppeListe, FACHGRUPPELISTE$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "fachgruppe_liste" element
+             */
+            public ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe addNewFachgruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe target = null;
+                    target = (ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe)get_store().add_element_user(FACHGRUPPELISTE$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "ha_fa_kennung" element
+             */
+            public ehd.vdx.x001.HaFaKennungDocument.HaFaKennung getHaFaKennung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.HaFaKennungDocument.HaFaKennung target = null;
+                    target = (ehd.vdx.x001.HaFaKennungDocument.HaFaKennung)get_store().find_element_user(HAFAKENNUNG$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ha_fa_kennung" element
+             */
+            public void setHaFaKennung(ehd.vdx.x001.HaFaKennungDocument.HaFaKennung haFaKennung)
+            {
+                generatedSetterHelperImpl(haFaKennung, HAFAKENNUNG$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "ha_fa_kennung" element
+             */
+            public ehd.vdx.x001.HaFaKennungDocument.HaFaKennung addNewHaFaKennung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.HaFaKennungDocument.HaFaKennung target = null;
+                    target = (ehd.vdx.x001.HaFaKennungDocument.HaFaKennung)get_store().add_element_user(HAFAKENNUNG$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "ms_kennung" element
+             */
+            public ehd.vdx.x001.MsKennungDocument.MsKennung getMsKennung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.MsKennungDocument.MsKennung target = null;
+                    target = (ehd.vdx.x001.MsKennungDocument.MsKennung)get_store().find_element_user(MSKENNUNG$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "ms_kennung" element
+             */
+            public void setMsKennung(ehd.vdx.x001.MsKennungDocument.MsKennung msKennung)
+            {
+                generatedSetterHelperImpl(msKennung, MSKENNUNG$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "ms_kennung" element
+             */
+            public ehd.vdx.x001.MsKennungDocument.MsKennung addNewMsKennung()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.MsKennungDocument.MsKennung target = null;
+                    target = (ehd.vdx.x001.MsKennungDocument.MsKennung)get_store().add_element_user(MSKENNUNG$6);
+                    return target;
+                }
+            }
+            /**
+             * An XML fachgruppe_liste(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class FachgruppeListeImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.VdxProviderTyp.Person.LocalHeader.FachgruppeListe
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public FachgruppeListeImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName FACHGRUPPE$0 = 
+                    new javax.xml.namespace.QName("urn:ehd/vdx/001", "fachgruppe");
+                
+                
+                /**
+                 * Gets array of all "fachgruppe" elements
+                 */
+                public ehd.vdx.x001.FachgruppeDocument.Fachgruppe[] getFachgruppeArray()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      java.util.List targetList = new java.util.ArrayList();
+                      get_store().find_all_element_users(FACHGRUPPE$0, targetList);
+                      ehd.vdx.x001.FachgruppeDocument.Fachgruppe[] result = new ehd.vdx.x001.FachgruppeDocument.Fachgruppe[targetList.size()];
+                      targetList.toArray(result);
+                      return result;
+                    }
+                }
+                
+                /**
+                 * Gets ith "fachgruppe" element
+                 */
+                public ehd.vdx.x001.FachgruppeDocument.Fachgruppe getFachgruppeArray(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FachgruppeDocument.Fachgruppe target = null;
+                      target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe)get_store().find_element_user(FACHGRUPPE$0, i);
+                      if (target == null)
+                      {
+                        throw new IndexOutOfBoundsException();
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Returns number of "fachgruppe" element
+                 */
+                public int sizeOfFachgruppeArray()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().count_elements(FACHGRUPPE$0);
+                    }
+                }
+                
+                /**
+                 * Sets array of all "fachgruppe" element  WARNING: This method is not atomicaly synchronized.
+                 */
+                public void setFachgruppeArray(ehd.vdx.x001.FachgruppeDocument.Fachgruppe[] fachgruppeArray)
+                {
+                    check_orphaned();
+                    arraySetterHelper(fachgruppeArray, FACHGRUPPE$0);
+                }
+                
+                /**
+                 * Sets ith "fachgruppe" element
+                 */
+                public void setFachgruppeArray(int i, ehd.vdx.x001.FachgruppeDocument.Fachgruppe fachgruppe)
+                {
+                    generatedSetterHelperImpl(fachgruppe, FACHGRUPPE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+                }
+                
+                /**
+                 * Inserts and returns a new empty value (as xml) as the ith "fachgruppe" element
+                 */
+                public ehd.vdx.x001.FachgruppeDocument.Fachgruppe insertNewFachgruppe(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FachgruppeDocument.Fachgruppe target = null;
+                      target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe)get_store().insert_element_user(FACHGRUPPE$0, i);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Appends and returns a new empty value (as xml) as the last "fachgruppe" element
+                 */
+                public ehd.vdx.x001.FachgruppeDocument.Fachgruppe addNewFachgruppe()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.FachgruppeDocument.Fachgruppe target = null;
+                      target = (ehd.vdx.x001.FachgruppeDocument.Fachgruppe)get_store().add_element_user(FACHGRUPPE$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Removes the ith "fachgruppe" element
+                 */
+                public void removeFachgruppe(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_element(FACHGRUPPE$0, i);
+                    }
+                }
+            }
+        }
+    }
+    /**
+     * An XML organization(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class OrganizationImpl extends ehd.vdx.x001.impl.OrganizationTypImpl implements ehd.vdx.x001.VdxProviderTyp.Organization
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public OrganizationImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ID$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+        private static final javax.xml.namespace.QName LOCALHEADER$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "local_header");
+        
+        
+        /**
+         * Gets the "id" element
+         */
+        public ehd.vdx.x001.IdTyp getId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.IdTyp target = null;
+                target = (ehd.vdx.x001.IdTyp)get_store().find_element_user(ID$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "id" element
+         */
+        public boolean isSetId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ID$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "id" element
+         */
+        public void setId(ehd.vdx.x001.IdTyp id)
+        {
+            generatedSetterHelperImpl(id, ID$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "id" element
+         */
+        public ehd.vdx.x001.IdTyp addNewId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.IdTyp target = null;
+                target = (ehd.vdx.x001.IdTyp)get_store().add_element_user(ID$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "id" element
+         */
+        public void unsetId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ID$0, 0);
+            }
+        }
+        
+        /**
+         * Gets array of all "local_header" elements
+         */
+        public ehd.vdx.x001.LocalHeaderContModel[] getLocalHeaderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(LOCALHEADER$2, targetList);
+                ehd.vdx.x001.LocalHeaderContModel[] result = new ehd.vdx.x001.LocalHeaderContModel[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel getLocalHeaderArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().find_element_user(LOCALHEADER$2, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "local_header" element
+         */
+        public int sizeOfLocalHeaderArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LOCALHEADER$2);
+            }
+        }
+        
+        /**
+         * Sets array of all "local_header" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setLocalHeaderArray(ehd.vdx.x001.LocalHeaderContModel[] localHeaderArray)
+        {
+            check_orphaned();
+            arraySetterHelper(localHeaderArray, LOCALHEADER$2);
+        }
+        
+        /**
+         * Sets ith "local_header" element
+         */
+        public void setLocalHeaderArray(int i, ehd.vdx.x001.LocalHeaderContModel localHeader)
+        {
+            generatedSetterHelperImpl(localHeader, LOCALHEADER$2, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel insertNewLocalHeader(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().insert_element_user(LOCALHEADER$2, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "local_header" element
+         */
+        public ehd.vdx.x001.LocalHeaderContModel addNewLocalHeader()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LocalHeaderContModel target = null;
+                target = (ehd.vdx.x001.LocalHeaderContModel)get_store().add_element_user(LOCALHEADER$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "local_header" element
+         */
+        public void removeLocalHeader(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LOCALHEADER$2, i);
+            }
+        }
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class IdImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.VdxProviderTyp.Organization.Id
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public IdImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName EX$0 = 
+                new javax.xml.namespace.QName("", "EX");
+            
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            public java.lang.String getEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "EX" attribute
+             */
+            public boolean isSetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(EX$0) != null;
+                }
+            }
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            public void setEX(java.lang.String ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+                    }
+                    target.setStringValue(ex);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            public void xsetEX(org.apache.xmlbeans.XmlString ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+                    }
+                    target.set(ex);
+                }
+            }
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            public void unsetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(EX$0);
+                }
+            }
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Organization$Id$EX.
+             */
+            public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VdxProviderTyp.Organization.Id.EX
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public EXImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VdxProviderTyp$Organization$Id$RT.
+             */
+            public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VdxProviderTyp.Organization.Id.RT
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public RTImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+        /**
+         * An XML local_header(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class LocalHeaderImpl extends ehd.vdx.x001.impl.LocalHeaderContModelImpl implements ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public LocalHeaderImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName ORGANIZATIONTYPECD$0 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "organization_type_cd");
+            private static final javax.xml.namespace.QName KBVPRUEFNUMMER$2 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "kbv_pruefnummer");
+            private static final javax.xml.namespace.QName REGELLEISTUNGSVOLUMEN$4 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "regelleistungsvolumen");
+            private static final javax.xml.namespace.QName HONORARGRUPPELISTE$6 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "honorargruppe_liste");
+            private static final javax.xml.namespace.QName HONORARLISTE$8 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "honorar_liste");
+            private static final javax.xml.namespace.QName LEISTUNGSBEDARFLISTE$10 = 
+                new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistungsbedarf_liste");
+            
+            
+            /**
+             * Gets the "organization_type_cd" element
+             */
+            public ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd getOrganizationTypeCd()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd target = null;
+                    target = (ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd)get_store().find_element_user(ORGANIZATIONTYPECD$0, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "organization_type_cd" element
+             */
+            public void setOrganizationTypeCd(ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd organizationTypeCd)
+            {
+                generatedSetterHelperImpl(organizationTypeCd, ORGANIZATIONTYPECD$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "organization_type_cd" element
+             */
+            public ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd addNewOrganizationTypeCd()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd target = null;
+                    target = (ehd.vdx.x001.OrganizationTypeCdDocument.OrganizationTypeCd)get_store().add_element_user(ORGANIZATIONTYPECD$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "kbv_pruefnummer" element
+             */
+            public ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer getKbvPruefnummer()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer target = null;
+                    target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer)get_store().find_element_user(KBVPRUEFNUMMER$2, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "kbv_pruefnummer" element
+             */
+            public void setKbvPruefnummer(ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer kbvPruefnummer)
+            {
+                generatedSetterHelperImpl(kbvPruefnummer, KBVPRUEFNUMMER$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "kbv_pruefnummer" element
+             */
+            public ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer addNewKbvPruefnummer()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer target = null;
+                    target = (ehd.vdx.x001.KbvPruefnummerDocument.KbvPruefnummer)get_store().add_element_user(KBVPRUEFNUMMER$2);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "regelleistungsvolumen" element
+             */
+            public ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen getRegelleistungsvolumen()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen target = null;
+                    target = (ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen)get_store().find_element_user(REGELLEISTUNGSVOLUMEN$4, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "regelleistungsvolumen" element
+             */
+            public boolean isSetRegelleistungsvolumen()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(REGELLEISTUNGSVOLUMEN$4) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "regelleistungsvolumen" element
+             */
+            public void setRegelleistungsvolumen(ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen regelleistungsvolumen)
+            {
+                generatedSetterHelperImpl(regelleistungsvolumen, REGELLEISTUNGSVOLUMEN$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "regelleistungsvolumen" element
+             */
+            public ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen addNewRegelleistungsvolumen()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen target = null;
+                    target = (ehd.vdx.x001.RegelleistungsvolumenDocument.Regelleistungsvolumen)get_store().add_element_user(REGELLEISTUNGSVOLUMEN$4);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "regelleistungsvolumen" element
+             */
+            public void unsetRegelleistungsvolumen()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(REGELLEISTUNGSVOLUMEN$4, 0);
+                }
+            }
+            
+            /**
+             * Gets the "honorargruppe_liste" element
+             */
+            public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe getHonorargruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe target = null;
+                    target = (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe)get_store().find_element_user(HONORARGRUPPELISTE$6, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "honorargruppe_liste" element
+             */
+            public boolean isSetHonorargruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().count_elements(HONORARGRUPPELISTE$6) != 0;
+                }
+            }
+            
+            /**
+             * Sets the "honorargruppe_liste" element
+             */
+            public void setHonorargruppeListe(ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe honorargruppeListe)
+            {
+                generatedSetterHelperImpl(honorargruppeListe, HONORARGRUPPELISTE$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "honorargruppe_liste" element
+             */
+            public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe addNewHonorargruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe target = null;
+                    target = (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe)get_store().add_element_user(HONORARGRUPPELISTE$6);
+                    return target;
+                }
+            }
+            
+            /**
+             * Unsets the "honorargruppe_liste" element
+             */
+            public void unsetHonorargruppeListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_element(HONORARGRUPPELISTE$6, 0);
+                }
+            }
+            
+            /**
+             * Gets the "honorar_liste" element
+             */
+            public ehd.vdx.x001.HonorarListeTyp getHonorarListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.HonorarListeTyp target = null;
+                    target = (ehd.vdx.x001.HonorarListeTyp)get_store().find_element_user(HONORARLISTE$8, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "honorar_liste" element
+             */
+            public void setHonorarListe(ehd.vdx.x001.HonorarListeTyp honorarListe)
+            {
+                generatedSetterHelperImpl(honorarListe, HONORARLISTE$8, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "honorar_liste" element
+             */
+            public ehd.vdx.x001.HonorarListeTyp addNewHonorarListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.HonorarListeTyp target = null;
+                    target = (ehd.vdx.x001.HonorarListeTyp)get_store().add_element_user(HONORARLISTE$8);
+                    return target;
+                }
+            }
+            
+            /**
+             * Gets the "leistungsbedarf_liste" element
+             */
+            public ehd.vdx.x001.LeistungsbedarfListeTyp getLeistungsbedarfListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungsbedarfListeTyp target = null;
+                    target = (ehd.vdx.x001.LeistungsbedarfListeTyp)get_store().find_element_user(LEISTUNGSBEDARFLISTE$10, 0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target;
+                }
+            }
+            
+            /**
+             * Sets the "leistungsbedarf_liste" element
+             */
+            public void setLeistungsbedarfListe(ehd.vdx.x001.LeistungsbedarfListeTyp leistungsbedarfListe)
+            {
+                generatedSetterHelperImpl(leistungsbedarfListe, LEISTUNGSBEDARFLISTE$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+            }
+            
+            /**
+             * Appends and returns a new empty "leistungsbedarf_liste" element
+             */
+            public ehd.vdx.x001.LeistungsbedarfListeTyp addNewLeistungsbedarfListe()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    ehd.vdx.x001.LeistungsbedarfListeTyp target = null;
+                    target = (ehd.vdx.x001.LeistungsbedarfListeTyp)get_store().add_element_user(LEISTUNGSBEDARFLISTE$10);
+                    return target;
+                }
+            }
+            /**
+             * An XML honorargruppe_liste(@urn:ehd/vdx/001).
+             *
+             * This is a complex type.
+             */
+            public static class HonorargruppeListeImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public HonorargruppeListeImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType);
+                }
+                
+                private static final javax.xml.namespace.QName HONORARGRUPPE$0 = 
+                    new javax.xml.namespace.QName("urn:ehd/vdx/001", "honorargruppe");
+                
+                
+                /**
+                 * Gets array of all "honorargruppe" elements
+                 */
+                public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[] getHonorargruppeArray()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      java.util.List targetList = new java.util.ArrayList();
+                      get_store().find_all_element_users(HONORARGRUPPE$0, targetList);
+                      ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[] result = new ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[targetList.size()];
+                      targetList.toArray(result);
+                      return result;
+                    }
+                }
+                
+                /**
+                 * Gets ith "honorargruppe" element
+                 */
+                public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe getHonorargruppeArray(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe target = null;
+                      target = (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe)get_store().find_element_user(HONORARGRUPPE$0, i);
+                      if (target == null)
+                      {
+                        throw new IndexOutOfBoundsException();
+                      }
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Returns number of "honorargruppe" element
+                 */
+                public int sizeOfHonorargruppeArray()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      return get_store().count_elements(HONORARGRUPPE$0);
+                    }
+                }
+                
+                /**
+                 * Sets array of all "honorargruppe" element  WARNING: This method is not atomicaly synchronized.
+                 */
+                public void setHonorargruppeArray(ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe[] honorargruppeArray)
+                {
+                    check_orphaned();
+                    arraySetterHelper(honorargruppeArray, HONORARGRUPPE$0);
+                }
+                
+                /**
+                 * Sets ith "honorargruppe" element
+                 */
+                public void setHonorargruppeArray(int i, ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe honorargruppe)
+                {
+                    generatedSetterHelperImpl(honorargruppe, HONORARGRUPPE$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+                }
+                
+                /**
+                 * Inserts and returns a new empty value (as xml) as the ith "honorargruppe" element
+                 */
+                public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe insertNewHonorargruppe(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe target = null;
+                      target = (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe)get_store().insert_element_user(HONORARGRUPPE$0, i);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Appends and returns a new empty value (as xml) as the last "honorargruppe" element
+                 */
+                public ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe addNewHonorargruppe()
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe target = null;
+                      target = (ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe)get_store().add_element_user(HONORARGRUPPE$0);
+                      return target;
+                    }
+                }
+                
+                /**
+                 * Removes the ith "honorargruppe" element
+                 */
+                public void removeHonorargruppe(int i)
+                {
+                    synchronized (monitor())
+                    {
+                      check_orphaned();
+                      get_store().remove_element(HONORARGRUPPE$0, i);
+                    }
+                }
+                /**
+                 * An XML honorargruppe(@urn:ehd/vdx/001).
+                 *
+                 * This is a complex type.
+                 */
+                public static class HonorargruppeImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VdxProviderTyp.Organization.LocalHeader.HonorargruppeListe.Honorargruppe
+                {
+                    private static final long serialVersionUID = 1L;
+                    
+                    public HonorargruppeImpl(org.apache.xmlbeans.SchemaType sType)
+                    {
+                      super(sType);
+                    }
+                    
+                    private static final javax.xml.namespace.QName V$0 = 
+                      new javax.xml.namespace.QName("", "V");
+                    
+                    
+                    /**
+                     * Gets the "V" attribute
+                     */
+                    public java.lang.String getV()
+                    {
+                      synchronized (monitor())
+                      {
+                        check_orphaned();
+                        org.apache.xmlbeans.SimpleValue target = null;
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                        if (target == null)
+                        {
+                          return null;
+                        }
+                        return target.getStringValue();
+                      }
+                    }
+                    
+                    /**
+                     * Gets (as xml) the "V" attribute
+                     */
+                    public org.apache.xmlbeans.XmlString xgetV()
+                    {
+                      synchronized (monitor())
+                      {
+                        check_orphaned();
+                        org.apache.xmlbeans.XmlString target = null;
+                        target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+                        return target;
+                      }
+                    }
+                    
+                    /**
+                     * Sets the "V" attribute
+                     */
+                    public void setV(java.lang.String v)
+                    {
+                      synchronized (monitor())
+                      {
+                        check_orphaned();
+                        org.apache.xmlbeans.SimpleValue target = null;
+                        target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                        if (target == null)
+                        {
+                          target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                        }
+                        target.setStringValue(v);
+                      }
+                    }
+                    
+                    /**
+                     * Sets (as xml) the "V" attribute
+                     */
+                    public void xsetV(org.apache.xmlbeans.XmlString v)
+                    {
+                      synchronized (monitor())
+                      {
+                        check_orphaned();
+                        org.apache.xmlbeans.XmlString target = null;
+                        target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(V$0);
+                        if (target == null)
+                        {
+                          target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(V$0);
+                        }
+                        target.set(v);
+                      }
+                    }
+                }
+            }
+        }
+    }
+}
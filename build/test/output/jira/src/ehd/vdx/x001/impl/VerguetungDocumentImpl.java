@@ -0,0 +1,279 @@
+/*
+ * An XML document type.
+ * Localname: verguetung
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VerguetungDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one verguetung(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class VerguetungDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VerguetungDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VerguetungDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VERGUETUNG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "verguetung");
+    
+    
+    /**
+     * Gets the "verguetung" element
+     */
+    public ehd.vdx.x001.VerguetungDocument.Verguetung getVerguetung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VerguetungDocument.Verguetung target = null;
+            target = (ehd.vdx.x001.VerguetungDocument.Verguetung)get_store().find_element_user(VERGUETUNG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "verguetung" element
+     */
+    public void setVerguetung(ehd.vdx.x001.VerguetungDocument.Verguetung verguetung)
+    {
+        generatedSetterHelperImpl(verguetung, VERGUETUNG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "verguetung" element
+     */
+    public ehd.vdx.x001.VerguetungDocument.Verguetung addNewVerguetung()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VerguetungDocument.Verguetung target = null;
+            target = (ehd.vdx.x001.VerguetungDocument.Verguetung)get_store().add_element_user(VERGUETUNG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML verguetung(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class VerguetungImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VerguetungDocument.Verguetung
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public VerguetungImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName DN$2 = 
+            new javax.xml.namespace.QName("", "DN");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public long getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexLong(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0L;
+                }
+                return target.getLongValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlLong xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(long v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setLongValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlLong v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlLong target = null;
+                target = (org.apache.xmlbeans.XmlLong)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlLong)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "DN" attribute
+         */
+        public int getDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(DN$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(DN$2);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "DN" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_default_attribute_value(DN$2);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "DN" attribute
+         */
+        public boolean isSetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(DN$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "DN" attribute
+         */
+        public void setDN(int dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DN$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DN$2);
+                }
+                target.setIntValue(dn);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "DN" attribute
+         */
+        public void xsetDN(org.apache.xmlbeans.XmlInt dn)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(DN$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(DN$2);
+                }
+                target.set(dn);
+            }
+        }
+        
+        /**
+         * Unsets the "DN" attribute
+         */
+        public void unsetDN()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(DN$2);
+            }
+        }
+    }
+}
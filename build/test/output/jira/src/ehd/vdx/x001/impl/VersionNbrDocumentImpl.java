@@ -0,0 +1,67 @@
+/*
+ * An XML document type.
+ * Localname: version_nbr
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VersionNbrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one version_nbr(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class VersionNbrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VersionNbrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VersionNbrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VERSIONNBR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "version_nbr");
+    
+    
+    /**
+     * Gets the "version_nbr" element
+     */
+    public ehd.vdx.x001.VersionNbrTyp getVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VersionNbrTyp target = null;
+            target = (ehd.vdx.x001.VersionNbrTyp)get_store().find_element_user(VERSIONNBR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "version_nbr" element
+     */
+    public void setVersionNbr(ehd.vdx.x001.VersionNbrTyp versionNbr)
+    {
+        generatedSetterHelperImpl(versionNbr, VERSIONNBR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "version_nbr" element
+     */
+    public ehd.vdx.x001.VersionNbrTyp addNewVersionNbr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VersionNbrTyp target = null;
+            target = (ehd.vdx.x001.VersionNbrTyp)get_store().add_element_user(VERSIONNBR$0);
+            return target;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * An XML document type.
+ * Localname: vknr
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VknrDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one vknr(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class VknrDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VknrDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VknrDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VKNR$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "vknr");
+    
+    
+    /**
+     * Gets the "vknr" element
+     */
+    public ehd.vdx.x001.VknrDocument.Vknr getVknr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VknrDocument.Vknr target = null;
+            target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().find_element_user(VKNR$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "vknr" element
+     */
+    public void setVknr(ehd.vdx.x001.VknrDocument.Vknr vknr)
+    {
+        generatedSetterHelperImpl(vknr, VKNR$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "vknr" element
+     */
+    public ehd.vdx.x001.VknrDocument.Vknr addNewVknr()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VknrDocument.Vknr target = null;
+            target = (ehd.vdx.x001.VknrDocument.Vknr)get_store().add_element_user(VKNR$0);
+            return target;
+        }
+    }
+    /**
+     * An XML vknr(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class VknrImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VknrDocument.Vknr
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public VknrImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName ZPKV$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "zp_kv");
+        private static final javax.xml.namespace.QName V$2 = 
+            new javax.xml.namespace.QName("", "V");
+        private static final javax.xml.namespace.QName S$4 = 
+            new javax.xml.namespace.QName("", "S");
+        
+        
+        /**
+         * Gets the "zp_kv" element
+         */
+        public ehd.vdx.x001.ZpKvDocument.ZpKv getZpKv()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ZpKvDocument.ZpKv target = null;
+                target = (ehd.vdx.x001.ZpKvDocument.ZpKv)get_store().find_element_user(ZPKV$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "zp_kv" element
+         */
+        public void setZpKv(ehd.vdx.x001.ZpKvDocument.ZpKv zpKv)
+        {
+            generatedSetterHelperImpl(zpKv, ZPKV$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "zp_kv" element
+         */
+        public ehd.vdx.x001.ZpKvDocument.ZpKv addNewZpKv()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.ZpKvDocument.ZpKv target = null;
+                target = (ehd.vdx.x001.ZpKvDocument.ZpKv)get_store().add_element_user(ZPKV$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public java.lang.String getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public ehd.vdx.x001.VknrDocument.Vknr.V xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VknrDocument.Vknr.V target = null;
+                target = (ehd.vdx.x001.VknrDocument.Vknr.V)get_store().find_attribute_user(V$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(java.lang.String v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$2);
+                }
+                target.setStringValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(ehd.vdx.x001.VknrDocument.Vknr.V v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VknrDocument.Vknr.V target = null;
+                target = (ehd.vdx.x001.VknrDocument.Vknr.V)get_store().find_attribute_user(V$2);
+                if (target == null)
+                {
+                    target = (ehd.vdx.x001.VknrDocument.Vknr.V)get_store().add_attribute_user(V$2);
+                }
+                target.set(v);
+            }
+        }
+        
+        /**
+         * Gets the "S" attribute
+         */
+        public java.lang.String getS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(S$4);
+                }
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "S" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_default_attribute_value(S$4);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "S" attribute
+         */
+        public boolean isSetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(S$4) != null;
+            }
+        }
+        
+        /**
+         * Sets the "S" attribute
+         */
+        public void setS(java.lang.String s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(S$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(S$4);
+                }
+                target.setStringValue(s);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "S" attribute
+         */
+        public void xsetS(org.apache.xmlbeans.XmlString s)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(S$4);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(S$4);
+                }
+                target.set(s);
+            }
+        }
+        
+        /**
+         * Unsets the "S" attribute
+         */
+        public void unsetS()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(S$4);
+            }
+        }
+        /**
+         * An XML V(@).
+         *
+         * This is an atomic type that is a restriction of ehd.vdx.x001.VknrDocument$Vknr$V.
+         */
+        public static class VImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VknrDocument.Vknr.V
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public VImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected VImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,858 @@
+/*
+ * An XML document type.
+ * Localname: vorgang
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VorgangDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one vorgang(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class VorgangDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VorgangDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VorgangDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VORGANG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "vorgang");
+    
+    
+    /**
+     * Gets the "vorgang" element
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang getVorgang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VorgangDocument.Vorgang target = null;
+            target = (ehd.vdx.x001.VorgangDocument.Vorgang)get_store().find_element_user(VORGANG$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "vorgang" element
+     */
+    public void setVorgang(ehd.vdx.x001.VorgangDocument.Vorgang vorgang)
+    {
+        generatedSetterHelperImpl(vorgang, VORGANG$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "vorgang" element
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang addNewVorgang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VorgangDocument.Vorgang target = null;
+            target = (ehd.vdx.x001.VorgangDocument.Vorgang)get_store().add_element_user(VORGANG$0);
+            return target;
+        }
+    }
+    /**
+     * An XML vorgang(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class VorgangImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.VorgangDocument.Vorgang
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public VorgangImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName VDXABRECHNUNGSBEREICH$0 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vdx_abrechnungsbereich");
+        private static final javax.xml.namespace.QName GKVKONTO$2 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "gkv_konto");
+        private static final javax.xml.namespace.QName VORGANGCODE$4 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "vorgang_code");
+        private static final javax.xml.namespace.QName BUDGETKENNUNG$6 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "budget_kennung");
+        private static final javax.xml.namespace.QName KVBEWERTUNGSSTEUERUNG$8 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kv_bewertungssteuerung");
+        private static final javax.xml.namespace.QName KBVBEWERTUNGSSTEUERUNG$10 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "kbv_bewertungssteuerung");
+        private static final javax.xml.namespace.QName LEISTUNGSBEDARF$12 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "leistungsbedarf");
+        private static final javax.xml.namespace.QName VERGUETUNG$14 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "verguetung");
+        private static final javax.xml.namespace.QName WERT$16 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "wert");
+        private static final javax.xml.namespace.QName ID$18 = 
+            new javax.xml.namespace.QName("urn:ehd/vdx/001", "id");
+        
+        
+        /**
+         * Gets the "vdx_abrechnungsbereich" element
+         */
+        public ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich getVdxAbrechnungsbereich()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich target = null;
+                target = (ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich)get_store().find_element_user(VDXABRECHNUNGSBEREICH$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "vdx_abrechnungsbereich" element
+         */
+        public boolean isSetVdxAbrechnungsbereich()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VDXABRECHNUNGSBEREICH$0) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "vdx_abrechnungsbereich" element
+         */
+        public void setVdxAbrechnungsbereich(ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich vdxAbrechnungsbereich)
+        {
+            generatedSetterHelperImpl(vdxAbrechnungsbereich, VDXABRECHNUNGSBEREICH$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vdx_abrechnungsbereich" element
+         */
+        public ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich addNewVdxAbrechnungsbereich()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich target = null;
+                target = (ehd.vdx.x001.VdxAbrechnungsbereichDocument.VdxAbrechnungsbereich)get_store().add_element_user(VDXABRECHNUNGSBEREICH$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "vdx_abrechnungsbereich" element
+         */
+        public void unsetVdxAbrechnungsbereich()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VDXABRECHNUNGSBEREICH$0, 0);
+            }
+        }
+        
+        /**
+         * Gets the "gkv_konto" element
+         */
+        public ehd.vdx.x001.GkvKontoDocument.GkvKonto getGkvKonto()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GkvKontoDocument.GkvKonto target = null;
+                target = (ehd.vdx.x001.GkvKontoDocument.GkvKonto)get_store().find_element_user(GKVKONTO$2, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "gkv_konto" element
+         */
+        public void setGkvKonto(ehd.vdx.x001.GkvKontoDocument.GkvKonto gkvKonto)
+        {
+            generatedSetterHelperImpl(gkvKonto, GKVKONTO$2, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "gkv_konto" element
+         */
+        public ehd.vdx.x001.GkvKontoDocument.GkvKonto addNewGkvKonto()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.GkvKontoDocument.GkvKonto target = null;
+                target = (ehd.vdx.x001.GkvKontoDocument.GkvKonto)get_store().add_element_user(GKVKONTO$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "vorgang_code" element
+         */
+        public ehd.vdx.x001.VorgangCodeDocument.VorgangCode getVorgangCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangCodeDocument.VorgangCode target = null;
+                target = (ehd.vdx.x001.VorgangCodeDocument.VorgangCode)get_store().find_element_user(VORGANGCODE$4, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "vorgang_code" element
+         */
+        public void setVorgangCode(ehd.vdx.x001.VorgangCodeDocument.VorgangCode vorgangCode)
+        {
+            generatedSetterHelperImpl(vorgangCode, VORGANGCODE$4, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "vorgang_code" element
+         */
+        public ehd.vdx.x001.VorgangCodeDocument.VorgangCode addNewVorgangCode()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangCodeDocument.VorgangCode target = null;
+                target = (ehd.vdx.x001.VorgangCodeDocument.VorgangCode)get_store().add_element_user(VORGANGCODE$4);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets the "budget_kennung" element
+         */
+        public ehd.vdx.x001.BudgetKennungDocument.BudgetKennung getBudgetKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BudgetKennungDocument.BudgetKennung target = null;
+                target = (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung)get_store().find_element_user(BUDGETKENNUNG$6, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "budget_kennung" element
+         */
+        public void setBudgetKennung(ehd.vdx.x001.BudgetKennungDocument.BudgetKennung budgetKennung)
+        {
+            generatedSetterHelperImpl(budgetKennung, BUDGETKENNUNG$6, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "budget_kennung" element
+         */
+        public ehd.vdx.x001.BudgetKennungDocument.BudgetKennung addNewBudgetKennung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.BudgetKennungDocument.BudgetKennung target = null;
+                target = (ehd.vdx.x001.BudgetKennungDocument.BudgetKennung)get_store().add_element_user(BUDGETKENNUNG$6);
+                return target;
+            }
+        }
+        
+        /**
+         * Gets array of all "kv_bewertungssteuerung" elements
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] getKvBewertungssteuerungArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.util.List targetList = new java.util.ArrayList();
+                get_store().find_all_element_users(KVBEWERTUNGSSTEUERUNG$8, targetList);
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] result = new ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[targetList.size()];
+                targetList.toArray(result);
+                return result;
+            }
+        }
+        
+        /**
+         * Gets ith "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung getKvBewertungssteuerungArray(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().find_element_user(KVBEWERTUNGSSTEUERUNG$8, i);
+                if (target == null)
+                {
+                    throw new IndexOutOfBoundsException();
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * Returns number of "kv_bewertungssteuerung" element
+         */
+        public int sizeOfKvBewertungssteuerungArray()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(KVBEWERTUNGSSTEUERUNG$8);
+            }
+        }
+        
+        /**
+         * Sets array of all "kv_bewertungssteuerung" element  WARNING: This method is not atomicaly synchronized.
+         */
+        public void setKvBewertungssteuerungArray(ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung[] kvBewertungssteuerungArray)
+        {
+            check_orphaned();
+            arraySetterHelper(kvBewertungssteuerungArray, KVBEWERTUNGSSTEUERUNG$8);
+        }
+        
+        /**
+         * Sets ith "kv_bewertungssteuerung" element
+         */
+        public void setKvBewertungssteuerungArray(int i, ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung kvBewertungssteuerung)
+        {
+            generatedSetterHelperImpl(kvBewertungssteuerung, KVBEWERTUNGSSTEUERUNG$8, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+        }
+        
+        /**
+         * Inserts and returns a new empty value (as xml) as the ith "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung insertNewKvBewertungssteuerung(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().insert_element_user(KVBEWERTUNGSSTEUERUNG$8, i);
+                return target;
+            }
+        }
+        
+        /**
+         * Appends and returns a new empty value (as xml) as the last "kv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung addNewKvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KvBewertungssteuerungDocument.KvBewertungssteuerung)get_store().add_element_user(KVBEWERTUNGSSTEUERUNG$8);
+                return target;
+            }
+        }
+        
+        /**
+         * Removes the ith "kv_bewertungssteuerung" element
+         */
+        public void removeKvBewertungssteuerung(int i)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(KVBEWERTUNGSSTEUERUNG$8, i);
+            }
+        }
+        
+        /**
+         * Gets the "kbv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung getKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung)get_store().find_element_user(KBVBEWERTUNGSSTEUERUNG$10, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "kbv_bewertungssteuerung" element
+         */
+        public boolean isSetKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(KBVBEWERTUNGSSTEUERUNG$10) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "kbv_bewertungssteuerung" element
+         */
+        public void setKbvBewertungssteuerung(ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung kbvBewertungssteuerung)
+        {
+            generatedSetterHelperImpl(kbvBewertungssteuerung, KBVBEWERTUNGSSTEUERUNG$10, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "kbv_bewertungssteuerung" element
+         */
+        public ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung addNewKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung target = null;
+                target = (ehd.vdx.x001.KbvBewertungssteuerungDocument.KbvBewertungssteuerung)get_store().add_element_user(KBVBEWERTUNGSSTEUERUNG$10);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "kbv_bewertungssteuerung" element
+         */
+        public void unsetKbvBewertungssteuerung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(KBVBEWERTUNGSSTEUERUNG$10, 0);
+            }
+        }
+        
+        /**
+         * Gets the "leistungsbedarf" element
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf getLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().find_element_user(LEISTUNGSBEDARF$12, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "leistungsbedarf" element
+         */
+        public boolean isSetLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(LEISTUNGSBEDARF$12) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "leistungsbedarf" element
+         */
+        public void setLeistungsbedarf(ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf leistungsbedarf)
+        {
+            generatedSetterHelperImpl(leistungsbedarf, LEISTUNGSBEDARF$12, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "leistungsbedarf" element
+         */
+        public ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf addNewLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf target = null;
+                target = (ehd.vdx.x001.LeistungsbedarfDocument.Leistungsbedarf)get_store().add_element_user(LEISTUNGSBEDARF$12);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "leistungsbedarf" element
+         */
+        public void unsetLeistungsbedarf()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(LEISTUNGSBEDARF$12, 0);
+            }
+        }
+        
+        /**
+         * Gets the "verguetung" element
+         */
+        public ehd.vdx.x001.VerguetungDocument.Verguetung getVerguetung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VerguetungDocument.Verguetung target = null;
+                target = (ehd.vdx.x001.VerguetungDocument.Verguetung)get_store().find_element_user(VERGUETUNG$14, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "verguetung" element
+         */
+        public boolean isSetVerguetung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(VERGUETUNG$14) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "verguetung" element
+         */
+        public void setVerguetung(ehd.vdx.x001.VerguetungDocument.Verguetung verguetung)
+        {
+            generatedSetterHelperImpl(verguetung, VERGUETUNG$14, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "verguetung" element
+         */
+        public ehd.vdx.x001.VerguetungDocument.Verguetung addNewVerguetung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VerguetungDocument.Verguetung target = null;
+                target = (ehd.vdx.x001.VerguetungDocument.Verguetung)get_store().add_element_user(VERGUETUNG$14);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "verguetung" element
+         */
+        public void unsetVerguetung()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(VERGUETUNG$14, 0);
+            }
+        }
+        
+        /**
+         * Gets the "wert" element
+         */
+        public ehd.vdx.x001.WertDocument.Wert getWert()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.WertDocument.Wert target = null;
+                target = (ehd.vdx.x001.WertDocument.Wert)get_store().find_element_user(WERT$16, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "wert" element
+         */
+        public boolean isSetWert()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(WERT$16) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "wert" element
+         */
+        public void setWert(ehd.vdx.x001.WertDocument.Wert wert)
+        {
+            generatedSetterHelperImpl(wert, WERT$16, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "wert" element
+         */
+        public ehd.vdx.x001.WertDocument.Wert addNewWert()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.WertDocument.Wert target = null;
+                target = (ehd.vdx.x001.WertDocument.Wert)get_store().add_element_user(WERT$16);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "wert" element
+         */
+        public void unsetWert()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(WERT$16, 0);
+            }
+        }
+        
+        /**
+         * Gets the "id" element
+         */
+        public ehd.vdx.x001.VorgangDocument.Vorgang.Id getId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangDocument.Vorgang.Id target = null;
+                target = (ehd.vdx.x001.VorgangDocument.Vorgang.Id)get_store().find_element_user(ID$18, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "id" element
+         */
+        public boolean isSetId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().count_elements(ID$18) != 0;
+            }
+        }
+        
+        /**
+         * Sets the "id" element
+         */
+        public void setId(ehd.vdx.x001.VorgangDocument.Vorgang.Id id)
+        {
+            generatedSetterHelperImpl(id, ID$18, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+        }
+        
+        /**
+         * Appends and returns a new empty "id" element
+         */
+        public ehd.vdx.x001.VorgangDocument.Vorgang.Id addNewId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                ehd.vdx.x001.VorgangDocument.Vorgang.Id target = null;
+                target = (ehd.vdx.x001.VorgangDocument.Vorgang.Id)get_store().add_element_user(ID$18);
+                return target;
+            }
+        }
+        
+        /**
+         * Unsets the "id" element
+         */
+        public void unsetId()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_element(ID$18, 0);
+            }
+        }
+        /**
+         * An XML id(@urn:ehd/vdx/001).
+         *
+         * This is a complex type.
+         */
+        public static class IdImpl extends ehd.vdx.x001.impl.IdTypImpl implements ehd.vdx.x001.VorgangDocument.Vorgang.Id
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public IdImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType);
+            }
+            
+            private static final javax.xml.namespace.QName EX$0 = 
+                new javax.xml.namespace.QName("", "EX");
+            
+            
+            /**
+             * Gets the "EX" attribute
+             */
+            public java.lang.String getEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      return null;
+                    }
+                    return target.getStringValue();
+                }
+            }
+            
+            /**
+             * Gets (as xml) the "EX" attribute
+             */
+            public org.apache.xmlbeans.XmlString xgetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    return target;
+                }
+            }
+            
+            /**
+             * True if has "EX" attribute
+             */
+            public boolean isSetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    return get_store().find_attribute_user(EX$0) != null;
+                }
+            }
+            
+            /**
+             * Sets the "EX" attribute
+             */
+            public void setEX(java.lang.String ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.SimpleValue target = null;
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(EX$0);
+                    }
+                    target.setStringValue(ex);
+                }
+            }
+            
+            /**
+             * Sets (as xml) the "EX" attribute
+             */
+            public void xsetEX(org.apache.xmlbeans.XmlString ex)
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    org.apache.xmlbeans.XmlString target = null;
+                    target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(EX$0);
+                    if (target == null)
+                    {
+                      target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(EX$0);
+                    }
+                    target.set(ex);
+                }
+            }
+            
+            /**
+             * Unsets the "EX" attribute
+             */
+            public void unsetEX()
+            {
+                synchronized (monitor())
+                {
+                    check_orphaned();
+                    get_store().remove_attribute(EX$0);
+                }
+            }
+            /**
+             * An XML EX(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VorgangDocument$Vorgang$Id$EX.
+             */
+            public static class EXImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VorgangDocument.Vorgang.Id.EX
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public EXImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected EXImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+            /**
+             * An XML RT(@).
+             *
+             * This is an atomic type that is a restriction of ehd.vdx.x001.VorgangDocument$Vorgang$Id$RT.
+             */
+            public static class RTImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.VorgangDocument.Vorgang.Id.RT
+            {
+                private static final long serialVersionUID = 1L;
+                
+                public RTImpl(org.apache.xmlbeans.SchemaType sType)
+                {
+                    super(sType, false);
+                }
+                
+                protected RTImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+                {
+                    super(sType, b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * XML Type:  vorgang_liste_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.VorgangListeTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML vorgang_liste_typ(@urn:ehd/vdx/001).
+ *
+ * This is a complex type.
+ */
+public class VorgangListeTypImpl extends ehd.vdx.x001.impl.ListeIdTypImpl implements ehd.vdx.x001.VorgangListeTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public VorgangListeTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName VORGANG$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "vorgang");
+    
+    
+    /**
+     * Gets array of all "vorgang" elements
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang[] getVorgangArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            java.util.List targetList = new java.util.ArrayList();
+            get_store().find_all_element_users(VORGANG$0, targetList);
+            ehd.vdx.x001.VorgangDocument.Vorgang[] result = new ehd.vdx.x001.VorgangDocument.Vorgang[targetList.size()];
+            targetList.toArray(result);
+            return result;
+        }
+    }
+    
+    /**
+     * Gets ith "vorgang" element
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang getVorgangArray(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VorgangDocument.Vorgang target = null;
+            target = (ehd.vdx.x001.VorgangDocument.Vorgang)get_store().find_element_user(VORGANG$0, i);
+            if (target == null)
+            {
+                throw new IndexOutOfBoundsException();
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Returns number of "vorgang" element
+     */
+    public int sizeOfVorgangArray()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            return get_store().count_elements(VORGANG$0);
+        }
+    }
+    
+    /**
+     * Sets array of all "vorgang" element  WARNING: This method is not atomicaly synchronized.
+     */
+    public void setVorgangArray(ehd.vdx.x001.VorgangDocument.Vorgang[] vorgangArray)
+    {
+        check_orphaned();
+        arraySetterHelper(vorgangArray, VORGANG$0);
+    }
+    
+    /**
+     * Sets ith "vorgang" element
+     */
+    public void setVorgangArray(int i, ehd.vdx.x001.VorgangDocument.Vorgang vorgang)
+    {
+        generatedSetterHelperImpl(vorgang, VORGANG$0, i, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_ARRAYITEM);
+    }
+    
+    /**
+     * Inserts and returns a new empty value (as xml) as the ith "vorgang" element
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang insertNewVorgang(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VorgangDocument.Vorgang target = null;
+            target = (ehd.vdx.x001.VorgangDocument.Vorgang)get_store().insert_element_user(VORGANG$0, i);
+            return target;
+        }
+    }
+    
+    /**
+     * Appends and returns a new empty value (as xml) as the last "vorgang" element
+     */
+    public ehd.vdx.x001.VorgangDocument.Vorgang addNewVorgang()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.VorgangDocument.Vorgang target = null;
+            target = (ehd.vdx.x001.VorgangDocument.Vorgang)get_store().add_element_user(VORGANG$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Removes the ith "vorgang" element
+     */
+    public void removeVorgang(int i)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            get_store().remove_element(VORGANG$0, i);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * An XML document type.
+ * Localname: wert
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.WertDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * A document containing one wert(@urn:ehd/vdx/001) element.
+ *
+ * This is a complex type.
+ */
+public class WertDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.WertDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public WertDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName WERT$0 = 
+        new javax.xml.namespace.QName("urn:ehd/vdx/001", "wert");
+    
+    
+    /**
+     * Gets the "wert" element
+     */
+    public ehd.vdx.x001.WertDocument.Wert getWert()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.WertDocument.Wert target = null;
+            target = (ehd.vdx.x001.WertDocument.Wert)get_store().find_element_user(WERT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "wert" element
+     */
+    public void setWert(ehd.vdx.x001.WertDocument.Wert wert)
+    {
+        generatedSetterHelperImpl(wert, WERT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "wert" element
+     */
+    public ehd.vdx.x001.WertDocument.Wert addNewWert()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            ehd.vdx.x001.WertDocument.Wert target = null;
+            target = (ehd.vdx.x001.WertDocument.Wert)get_store().add_element_user(WERT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML wert(@urn:ehd/vdx/001).
+     *
+     * This is a complex type.
+     */
+    public static class WertImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements ehd.vdx.x001.WertDocument.Wert
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public WertImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName V$0 = 
+            new javax.xml.namespace.QName("", "V");
+        
+        
+        /**
+         * Gets the "V" attribute
+         */
+        public int getV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(V$0, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "V" attribute
+         */
+        public org.apache.xmlbeans.XmlInt xgetV()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "V" attribute
+         */
+        public void setV(int v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(V$0);
+                }
+                target.setIntValue(v);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "V" attribute
+         */
+        public void xsetV(org.apache.xmlbeans.XmlInt v)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlInt target = null;
+                target = (org.apache.xmlbeans.XmlInt)get_store().find_attribute_user(V$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlInt)get_store().add_attribute_user(V$0);
+                }
+                target.set(v);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  zeitraum_typ
+ * Namespace: urn:ehd/vdx/001
+ * Java type: ehd.vdx.x001.ZeitraumTyp
+ *
+ * Automatically generated - do not modify.
+ */
+package ehd.vdx.x001.impl;
+/**
+ * An XML zeitraum_typ(@urn:ehd/vdx/001).
+ *
+ * This is an atomic type that is a restriction of ehd.vdx.x001.ZeitraumTyp.
+ */
+public class ZeitraumTypImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements ehd.vdx.x001.ZeitraumTyp
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ZeitraumTypImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected ZeitraumTypImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * An XML document type.
+ * Localname: sb2OfficeID
+ * Namespace: 
+ * Java type: noNamespace.Sb2OfficeIDDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one sb2OfficeID(@) element.
+ *
+ * This is a complex type.
+ */
+public interface Sb2OfficeIDDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Sb2OfficeIDDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sAC744C79672EF96C38B38EDA69B3B240").resolveHandle("sb2officeid57a1doctype");
+    
+    /**
+     * Gets the "sb2OfficeID" element
+     */
+    java.math.BigInteger getSb2OfficeID();
+    
+    /**
+     * Gets (as xml) the "sb2OfficeID" element
+     */
+    noNamespace.Sb2OfficeIDDocument.Sb2OfficeID xgetSb2OfficeID();
+    
+    /**
+     * Sets the "sb2OfficeID" element
+     */
+    void setSb2OfficeID(java.math.BigInteger sb2OfficeID);
+    
+    /**
+     * Sets (as xml) the "sb2OfficeID" element
+     */
+    void xsetSb2OfficeID(noNamespace.Sb2OfficeIDDocument.Sb2OfficeID sb2OfficeID);
+    
+    /**
+     * An XML sb2OfficeID(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.Sb2OfficeIDDocument$Sb2OfficeID.
+     */
+    public interface Sb2OfficeID extends org.apache.xmlbeans.XmlDecimal
+    {
+        java.math.BigInteger getBigIntegerValue();
+        void setBigIntegerValue(java.math.BigInteger bi);
+        /** @deprecated */
+        java.math.BigInteger bigIntegerValue();
+        /** @deprecated */
+        void set(java.math.BigInteger bi);
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Sb2OfficeID.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sAC744C79672EF96C38B38EDA69B3B240").resolveHandle("sb2officeid0757elemtype");
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.Sb2OfficeIDDocument.Sb2OfficeID newValue(java.lang.Object obj) {
+              return (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID) type.newValue( obj ); }
+            
+            public static noNamespace.Sb2OfficeIDDocument.Sb2OfficeID newInstance() {
+              return (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.Sb2OfficeIDDocument.Sb2OfficeID newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.Sb2OfficeIDDocument newInstance() {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.Sb2OfficeIDDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.Sb2OfficeIDDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.Sb2OfficeIDDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.Sb2OfficeIDDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.Sb2OfficeIDDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
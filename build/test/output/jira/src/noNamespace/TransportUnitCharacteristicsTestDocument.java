@@ -0,0 +1,189 @@
+/*
+ * An XML document type.
+ * Localname: TransportUnitCharacteristics_test
+ * Namespace: 
+ * Java type: noNamespace.TransportUnitCharacteristicsTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace;
+
+
+/**
+ * A document containing one TransportUnitCharacteristics_test(@) element.
+ *
+ * This is a complex type.
+ */
+public interface TransportUnitCharacteristicsTestDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TransportUnitCharacteristicsTestDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sCE7225848146B110DFEAD7B52D49F1DE").resolveHandle("transportunitcharacteristicstestacaddoctype");
+    
+    /**
+     * Gets the "TransportUnitCharacteristics_test" element
+     */
+    noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest getTransportUnitCharacteristicsTest();
+    
+    /**
+     * Sets the "TransportUnitCharacteristics_test" element
+     */
+    void setTransportUnitCharacteristicsTest(noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest transportUnitCharacteristicsTest);
+    
+    /**
+     * Appends and returns a new empty "TransportUnitCharacteristics_test" element
+     */
+    noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest addNewTransportUnitCharacteristicsTest();
+    
+    /**
+     * An XML TransportUnitCharacteristics_test(@).
+     *
+     * This is a complex type.
+     */
+    public interface TransportUnitCharacteristicsTest extends org.apache.xmlbeans.XmlObject
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(TransportUnitCharacteristicsTest.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.sCE7225848146B110DFEAD7B52D49F1DE").resolveHandle("transportunitcharacteristicstest7c2felemtype");
+        
+        /**
+         * Gets the "dummy" element
+         */
+        java.lang.String getDummy();
+        
+        /**
+         * Gets (as xml) the "dummy" element
+         */
+        org.apache.xmlbeans.XmlString xgetDummy();
+        
+        /**
+         * Sets the "dummy" element
+         */
+        void setDummy(java.lang.String dummy);
+        
+        /**
+         * Sets (as xml) the "dummy" element
+         */
+        void xsetDummy(org.apache.xmlbeans.XmlString dummy);
+        
+        /**
+         * Gets the "TransportUnitLevel_test" attribute
+         */
+        int getTransportUnitLevelTest();
+        
+        /**
+         * Gets (as xml) the "TransportUnitLevel_test" attribute
+         */
+        noNamespace.Nni1 xgetTransportUnitLevelTest();
+        
+        /**
+         * True if has "TransportUnitLevel_test" attribute
+         */
+        boolean isSetTransportUnitLevelTest();
+        
+        /**
+         * Sets the "TransportUnitLevel_test" attribute
+         */
+        void setTransportUnitLevelTest(int transportUnitLevelTest);
+        
+        /**
+         * Sets (as xml) the "TransportUnitLevel_test" attribute
+         */
+        void xsetTransportUnitLevelTest(noNamespace.Nni1 transportUnitLevelTest);
+        
+        /**
+         * Unsets the "TransportUnitLevel_test" attribute
+         */
+        void unsetTransportUnitLevelTest();
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest newInstance() {
+              return (noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static noNamespace.TransportUnitCharacteristicsTestDocument newInstance() {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static noNamespace.TransportUnitCharacteristicsTestDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (noNamespace.TransportUnitCharacteristicsTestDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
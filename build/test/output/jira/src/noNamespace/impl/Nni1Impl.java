@@ -0,0 +1,27 @@
+/*
+ * XML Type:  nni1
+ * Namespace: 
+ * Java type: noNamespace.Nni1
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * An XML nni1(@).
+ *
+ * This is an atomic type that is a restriction of noNamespace.Nni1.
+ */
+public class Nni1Impl extends org.apache.xmlbeans.impl.values.JavaIntHolderEx implements noNamespace.Nni1
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Nni1Impl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected Nni1Impl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * An XML document type.
+ * Localname: sb2OfficeID
+ * Namespace: 
+ * Java type: noNamespace.Sb2OfficeIDDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one sb2OfficeID(@) element.
+ *
+ * This is a complex type.
+ */
+public class Sb2OfficeIDDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.Sb2OfficeIDDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public Sb2OfficeIDDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName SB2OFFICEID$0 = 
+        new javax.xml.namespace.QName("", "sb2OfficeID");
+    
+    
+    /**
+     * Gets the "sb2OfficeID" element
+     */
+    public java.math.BigInteger getSb2OfficeID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SB2OFFICEID$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getBigIntegerValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "sb2OfficeID" element
+     */
+    public noNamespace.Sb2OfficeIDDocument.Sb2OfficeID xgetSb2OfficeID()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Sb2OfficeIDDocument.Sb2OfficeID target = null;
+            target = (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID)get_store().find_element_user(SB2OFFICEID$0, 0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "sb2OfficeID" element
+     */
+    public void setSb2OfficeID(java.math.BigInteger sb2OfficeID)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(SB2OFFICEID$0, 0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(SB2OFFICEID$0);
+            }
+            target.setBigIntegerValue(sb2OfficeID);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "sb2OfficeID" element
+     */
+    public void xsetSb2OfficeID(noNamespace.Sb2OfficeIDDocument.Sb2OfficeID sb2OfficeID)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.Sb2OfficeIDDocument.Sb2OfficeID target = null;
+            target = (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID)get_store().find_element_user(SB2OFFICEID$0, 0);
+            if (target == null)
+            {
+                target = (noNamespace.Sb2OfficeIDDocument.Sb2OfficeID)get_store().add_element_user(SB2OFFICEID$0);
+            }
+            target.set(sb2OfficeID);
+        }
+    }
+    /**
+     * An XML sb2OfficeID(@).
+     *
+     * This is an atomic type that is a restriction of noNamespace.Sb2OfficeIDDocument$Sb2OfficeID.
+     */
+    public static class Sb2OfficeIDImpl extends org.apache.xmlbeans.impl.values.JavaIntegerHolderEx implements noNamespace.Sb2OfficeIDDocument.Sb2OfficeID
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public Sb2OfficeIDImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, false);
+        }
+        
+        protected Sb2OfficeIDImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * An XML document type.
+ * Localname: TransportUnitCharacteristics_test
+ * Namespace: 
+ * Java type: noNamespace.TransportUnitCharacteristicsTestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one TransportUnitCharacteristics_test(@) element.
+ *
+ * This is a complex type.
+ */
+public class TransportUnitCharacteristicsTestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TransportUnitCharacteristicsTestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TransportUnitCharacteristicsTestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TRANSPORTUNITCHARACTERISTICSTEST$0 = 
+        new javax.xml.namespace.QName("", "TransportUnitCharacteristics_test");
+    
+    
+    /**
+     * Gets the "TransportUnitCharacteristics_test" element
+     */
+    public noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest getTransportUnitCharacteristicsTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest target = null;
+            target = (noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest)get_store().find_element_user(TRANSPORTUNITCHARACTERISTICSTEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "TransportUnitCharacteristics_test" element
+     */
+    public void setTransportUnitCharacteristicsTest(noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest transportUnitCharacteristicsTest)
+    {
+        generatedSetterHelperImpl(transportUnitCharacteristicsTest, TRANSPORTUNITCHARACTERISTICSTEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "TransportUnitCharacteristics_test" element
+     */
+    public noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest addNewTransportUnitCharacteristicsTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest target = null;
+            target = (noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest)get_store().add_element_user(TRANSPORTUNITCHARACTERISTICSTEST$0);
+            return target;
+        }
+    }
+    /**
+     * An XML TransportUnitCharacteristics_test(@).
+     *
+     * This is a complex type.
+     */
+    public static class TransportUnitCharacteristicsTestImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.TransportUnitCharacteristicsTestDocument.TransportUnitCharacteristicsTest
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public TransportUnitCharacteristicsTestImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        private static final javax.xml.namespace.QName DUMMY$0 = 
+            new javax.xml.namespace.QName("", "dummy");
+        private static final javax.xml.namespace.QName TRANSPORTUNITLEVELTEST$2 = 
+            new javax.xml.namespace.QName("", "TransportUnitLevel_test");
+        
+        
+        /**
+         * Gets the "dummy" element
+         */
+        public java.lang.String getDummy()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DUMMY$0, 0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "dummy" element
+         */
+        public org.apache.xmlbeans.XmlString xgetDummy()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DUMMY$0, 0);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "dummy" element
+         */
+        public void setDummy(java.lang.String dummy)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_element_user(DUMMY$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_element_user(DUMMY$0);
+                }
+                target.setStringValue(dummy);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "dummy" element
+         */
+        public void xsetDummy(org.apache.xmlbeans.XmlString dummy)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_element_user(DUMMY$0, 0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_element_user(DUMMY$0);
+                }
+                target.set(dummy);
+            }
+        }
+        
+        /**
+         * Gets the "TransportUnitLevel_test" attribute
+         */
+        public int getTransportUnitLevelTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                java.lang.CharSequence text = get_store().find_attribute_chars(TRANSPORTUNITLEVELTEST$2, org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE);
+                if (text != null)
+                {
+                    try
+                    {
+                      return org.apache.xmlbeans.impl.util.XsTypeConverter.lexInt(text);
+                    }
+                    catch (java.lang.RuntimeException e)
+                    {
+                      // not a valid value, the error comes from the target
+                    }
+                }
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_default_attribute_value(TRANSPORTUNITLEVELTEST$2);
+                }
+                if (target == null)
+                {
+                    return 0;
+                }
+                return target.getIntValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "TransportUnitLevel_test" attribute
+         */
+        public noNamespace.Nni1 xgetTransportUnitLevelTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.Nni1 target = null;
+                target = (noNamespace.Nni1)get_store().find_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                if (target == null)
+                {
+                    target = (noNamespace.Nni1)get_default_attribute_value(TRANSPORTUNITLEVELTEST$2);
+                }
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "TransportUnitLevel_test" attribute
+         */
+        public boolean isSetTransportUnitLevelTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(TRANSPORTUNITLEVELTEST$2) != null;
+            }
+        }
+        
+        /**
+         * Sets the "TransportUnitLevel_test" attribute
+         */
+        public void setTransportUnitLevelTest(int transportUnitLevelTest)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                }
+                target.setIntValue(transportUnitLevelTest);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "TransportUnitLevel_test" attribute
+         */
+        public void xsetTransportUnitLevelTest(noNamespace.Nni1 transportUnitLevelTest)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                noNamespace.Nni1 target = null;
+                target = (noNamespace.Nni1)get_store().find_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                if (target == null)
+                {
+                    target = (noNamespace.Nni1)get_store().add_attribute_user(TRANSPORTUNITLEVELTEST$2);
+                }
+                target.set(transportUnitLevelTest);
+            }
+        }
+        
+        /**
+         * Unsets the "TransportUnitLevel_test" attribute
+         */
+        public void unsetTransportUnitLevelTest()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(TRANSPORTUNITLEVELTEST$2);
+            }
+        }
+    }
+}
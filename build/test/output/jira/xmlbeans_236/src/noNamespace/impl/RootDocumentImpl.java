@@ -0,0 +1,83 @@
+/*
+ * An XML document type.
+ * Localname: root
+ * Namespace: 
+ * Java type: noNamespace.RootDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package noNamespace.impl;
+/**
+ * A document containing one root(@) element.
+ *
+ * This is a complex type.
+ */
+public class RootDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RootDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public RootDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ROOT$0 = 
+        new javax.xml.namespace.QName("", "root");
+    
+    
+    /**
+     * Gets the "root" element
+     */
+    public noNamespace.RootDocument.Root getRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.RootDocument.Root target = null;
+            target = (noNamespace.RootDocument.Root)get_store().find_element_user(ROOT$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "root" element
+     */
+    public void setRoot(noNamespace.RootDocument.Root root)
+    {
+        generatedSetterHelperImpl(root, ROOT$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "root" element
+     */
+    public noNamespace.RootDocument.Root addNewRoot()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            noNamespace.RootDocument.Root target = null;
+            target = (noNamespace.RootDocument.Root)get_store().add_element_user(ROOT$0);
+            return target;
+        }
+    }
+    /**
+     * An XML root(@).
+     *
+     * This is a complex type.
+     */
+    public static class RootImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements noNamespace.RootDocument.Root
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public RootImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType);
+        }
+        
+        
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * An XML document type.
+ * Localname: ARTICLE_STATUS
+ * Namespace: http://www.test.bmecat.org
+ * Java type: org.bmecat.test.ARTICLESTATUSDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.bmecat.test;
+
+
+/**
+ * A document containing one ARTICLE_STATUS(@http://www.test.bmecat.org) element.
+ *
+ * This is a complex type.
+ */
+public interface ARTICLESTATUSDocument extends org.apache.xmlbeans.XmlObject
+{
+    public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+        org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ARTICLESTATUSDocument.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s60FE16AD6AE37CBD4736EBC2ED605936").resolveHandle("articlestatusf6d1doctype");
+    
+    /**
+     * Gets the "ARTICLE_STATUS" element
+     */
+    org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS getARTICLESTATUS();
+    
+    /**
+     * Sets the "ARTICLE_STATUS" element
+     */
+    void setARTICLESTATUS(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS articlestatus);
+    
+    /**
+     * Appends and returns a new empty "ARTICLE_STATUS" element
+     */
+    org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS addNewARTICLESTATUS();
+    
+    /**
+     * An XML ARTICLE_STATUS(@http://www.test.bmecat.org).
+     *
+     * This is an atomic type that is a restriction of org.bmecat.test.ARTICLESTATUSDocument$ARTICLESTATUS.
+     */
+    public interface ARTICLESTATUS extends org.bmecat.test.DtMLSTRING
+    {
+        public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+            org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(ARTICLESTATUS.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s60FE16AD6AE37CBD4736EBC2ED605936").resolveHandle("articlestatus7a68elemtype");
+        
+        /**
+         * Gets the "type" attribute
+         */
+        org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type.Enum getType();
+        
+        /**
+         * Gets (as xml) the "type" attribute
+         */
+        org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type xgetType();
+        
+        /**
+         * Sets the "type" attribute
+         */
+        void setType(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type.Enum type);
+        
+        /**
+         * Sets (as xml) the "type" attribute
+         */
+        void xsetType(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type type);
+        
+        /**
+         * An XML type(@).
+         *
+         * This is an atomic type that is a restriction of org.bmecat.test.ARTICLESTATUSDocument$ARTICLESTATUS$Type.
+         */
+        public interface Type extends org.bmecat.test.DtSTRING
+        {
+            public static final org.apache.xmlbeans.SchemaType type = (org.apache.xmlbeans.SchemaType)
+                org.apache.xmlbeans.XmlBeans.typeSystemForClassLoader(Type.class.getClassLoader(), "schemaorg_apache_xmlbeans.system.s60FE16AD6AE37CBD4736EBC2ED605936").resolveHandle("type2f4eattrtype");
+            
+            org.apache.xmlbeans.StringEnumAbstractBase enumValue();
+            void set(org.apache.xmlbeans.StringEnumAbstractBase e);
+            
+            static final Enum BARGAIN = Enum.forString("bargain");
+            static final Enum CORE_PRODUCT = Enum.forString("core_product");
+            static final Enum NEW = Enum.forString("new");
+            static final Enum NEW_PRODUCT = Enum.forString("new_product");
+            static final Enum OLD_PRODUCT = Enum.forString("old_product");
+            static final Enum REFURBISHED = Enum.forString("refurbished");
+            static final Enum USED = Enum.forString("used");
+            static final Enum OTHERS = Enum.forString("others");
+            
+            static final int INT_BARGAIN = Enum.INT_BARGAIN;
+            static final int INT_CORE_PRODUCT = Enum.INT_CORE_PRODUCT;
+            static final int INT_NEW = Enum.INT_NEW;
+            static final int INT_NEW_PRODUCT = Enum.INT_NEW_PRODUCT;
+            static final int INT_OLD_PRODUCT = Enum.INT_OLD_PRODUCT;
+            static final int INT_REFURBISHED = Enum.INT_REFURBISHED;
+            static final int INT_USED = Enum.INT_USED;
+            static final int INT_OTHERS = Enum.INT_OTHERS;
+            
+            /**
+             * Enumeration value class for org.bmecat.test.ARTICLESTATUSDocument$ARTICLESTATUS$Type.
+             * These enum values can be used as follows:
+             * <pre>
+             * enum.toString(); // returns the string value of the enum
+             * enum.intValue(); // returns an int value, useful for switches
+             * // e.g., case Enum.INT_BARGAIN
+             * Enum.forString(s); // returns the enum value for a string
+             * Enum.forInt(i); // returns the enum value for an int
+             * </pre>
+             * Enumeration objects are immutable singleton objects that
+             * can be compared using == object equality. They have no
+             * public constructor. See the constants defined within this
+             * class for all the valid values.
+             */
+            static final class Enum extends org.apache.xmlbeans.StringEnumAbstractBase
+            {
+                /**
+                 * Returns the enum value for a string, or null if none.
+                 */
+                public static Enum forString(java.lang.String s)
+                    { return (Enum)table.forString(s); }
+                /**
+                 * Returns the enum value corresponding to an int, or null if none.
+                 */
+                public static Enum forInt(int i)
+                    { return (Enum)table.forInt(i); }
+                
+                private Enum(java.lang.String s, int i)
+                    { super(s, i); }
+                
+                static final int INT_BARGAIN = 1;
+                static final int INT_CORE_PRODUCT = 2;
+                static final int INT_NEW = 3;
+                static final int INT_NEW_PRODUCT = 4;
+                static final int INT_OLD_PRODUCT = 5;
+                static final int INT_REFURBISHED = 6;
+                static final int INT_USED = 7;
+                static final int INT_OTHERS = 8;
+                
+                public static final org.apache.xmlbeans.StringEnumAbstractBase.Table table =
+                    new org.apache.xmlbeans.StringEnumAbstractBase.Table
+                (
+                    new Enum[]
+                    {
+                      new Enum("bargain", INT_BARGAIN),
+                      new Enum("core_product", INT_CORE_PRODUCT),
+                      new Enum("new", INT_NEW),
+                      new Enum("new_product", INT_NEW_PRODUCT),
+                      new Enum("old_product", INT_OLD_PRODUCT),
+                      new Enum("refurbished", INT_REFURBISHED),
+                      new Enum("used", INT_USED),
+                      new Enum("others", INT_OTHERS),
+                    }
+                );
+                private static final long serialVersionUID = 1L;
+                private java.lang.Object readResolve() { return forInt(intValue()); } 
+            }
+            
+            /**
+             * A factory class with static methods for creating instances
+             * of this type.
+             */
+            
+            public static final class Factory
+            {
+                public static org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type newValue(java.lang.Object obj) {
+                  return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type) type.newValue( obj ); }
+                
+                public static org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type newInstance() {
+                  return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+                
+                public static org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type newInstance(org.apache.xmlbeans.XmlOptions options) {
+                  return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+                
+                private Factory() { } // No instance of this class allowed
+            }
+        }
+        
+        /**
+         * A factory class with static methods for creating instances
+         * of this type.
+         */
+        
+        public static final class Factory
+        {
+            public static org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS newInstance() {
+              return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+            
+            public static org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS newInstance(org.apache.xmlbeans.XmlOptions options) {
+              return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+            
+            private Factory() { } // No instance of this class allowed
+        }
+    }
+    
+    /**
+     * A factory class with static methods for creating instances
+     * of this type.
+     */
+    
+    public static final class Factory
+    {
+        public static org.bmecat.test.ARTICLESTATUSDocument newInstance() {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument newInstance(org.apache.xmlbeans.XmlOptions options) {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newInstance( type, options ); }
+        
+        /** @param xmlAsString the string value to parse */
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.lang.String xmlAsString) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.lang.String xmlAsString, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xmlAsString, type, options ); }
+        
+        /** @param file the file from which to load an xml document */
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.File file) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.File file, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( file, type, options ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.net.URL u) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.net.URL u, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( u, type, options ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.InputStream is) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.InputStream is, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( is, type, options ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.Reader r) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(java.io.Reader r, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, java.io.IOException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( r, type, options ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(javax.xml.stream.XMLStreamReader sr) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(javax.xml.stream.XMLStreamReader sr, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( sr, type, options ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(org.w3c.dom.Node node) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, null ); }
+        
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(org.w3c.dom.Node node, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( node, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.bmecat.test.ARTICLESTATUSDocument parse(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return (org.bmecat.test.ARTICLESTATUSDocument) org.apache.xmlbeans.XmlBeans.getContextTypeLoader().parse( xis, type, options ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, null ); }
+        
+        /** @deprecated {@link org.apache.xmlbeans.xml.stream.XMLInputStream} */
+        public static org.apache.xmlbeans.xml.stream.XMLInputStream newValidatingXMLInputStream(org.apache.xmlbeans.xml.stream.XMLInputStream xis, org.apache.xmlbeans.XmlOptions options) throws org.apache.xmlbeans.XmlException, org.apache.xmlbeans.xml.stream.XMLStreamException {
+          return org.apache.xmlbeans.XmlBeans.getContextTypeLoader().newValidatingXMLInputStream( xis, type, options ); }
+        
+        private Factory() { } // No instance of this class allowed
+    }
+}
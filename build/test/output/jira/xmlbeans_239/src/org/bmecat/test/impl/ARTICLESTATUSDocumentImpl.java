@@ -0,0 +1,271 @@
+/*
+ * An XML document type.
+ * Localname: ARTICLE_STATUS
+ * Namespace: http://www.test.bmecat.org
+ * Java type: org.bmecat.test.ARTICLESTATUSDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package org.bmecat.test.impl;
+/**
+ * A document containing one ARTICLE_STATUS(@http://www.test.bmecat.org) element.
+ *
+ * This is a complex type.
+ */
+public class ARTICLESTATUSDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements org.bmecat.test.ARTICLESTATUSDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public ARTICLESTATUSDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName ARTICLESTATUS$0 = 
+        new javax.xml.namespace.QName("http://www.test.bmecat.org", "ARTICLE_STATUS");
+    
+    
+    /**
+     * Gets the "ARTICLE_STATUS" element
+     */
+    public org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS getARTICLESTATUS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS target = null;
+            target = (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS)get_store().find_element_user(ARTICLESTATUS$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "ARTICLE_STATUS" element
+     */
+    public void setARTICLESTATUS(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS articlestatus)
+    {
+        generatedSetterHelperImpl(articlestatus, ARTICLESTATUS$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "ARTICLE_STATUS" element
+     */
+    public org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS addNewARTICLESTATUS()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS target = null;
+            target = (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS)get_store().add_element_user(ARTICLESTATUS$0);
+            return target;
+        }
+    }
+    /**
+     * An XML ARTICLE_STATUS(@http://www.test.bmecat.org).
+     *
+     * This is an atomic type that is a restriction of org.bmecat.test.ARTICLESTATUSDocument$ARTICLESTATUS.
+     */
+    public static class ARTICLESTATUSImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS
+    {
+        private static final long serialVersionUID = 1L;
+        
+        public ARTICLESTATUSImpl(org.apache.xmlbeans.SchemaType sType)
+        {
+            super(sType, true);
+        }
+        
+        protected ARTICLESTATUSImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+        {
+            super(sType, b);
+        }
+        
+        private static final javax.xml.namespace.QName LANG$0 = 
+            new javax.xml.namespace.QName("", "lang");
+        private static final javax.xml.namespace.QName TYPE$2 = 
+            new javax.xml.namespace.QName("", "type");
+        
+        
+        /**
+         * Gets the "lang" attribute
+         */
+        public java.lang.String getLang()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+                if (target == null)
+                {
+                    return null;
+                }
+                return target.getStringValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "lang" attribute
+         */
+        public org.apache.xmlbeans.XmlString xgetLang()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(LANG$0);
+                return target;
+            }
+        }
+        
+        /**
+         * True if has "lang" attribute
+         */
+        public boolean isSetLang()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                return get_store().find_attribute_user(LANG$0) != null;
+            }
+        }
+        
+        /**
+         * Sets the "lang" attribute
+         */
+        public void setLang(java.lang.String lang)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(LANG$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(LANG$0);
+                }
+                target.setStringValue(lang);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "lang" attribute
+         */
+        public void xsetLang(org.apache.xmlbeans.XmlString lang)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.XmlString target = null;
+                target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(LANG$0);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(LANG$0);
+                }
+                target.set(lang);
+            }
+        }
+        
+        /**
+         * Unsets the "lang" attribute
+         */
+        public void unsetLang()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                get_store().remove_attribute(LANG$0);
+            }
+        }
+        
+        /**
+         * Gets the "type" attribute
+         */
+        public org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type.Enum getType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$2);
+                if (target == null)
+                {
+                    return null;
+                }
+                return (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type.Enum)target.getEnumValue();
+            }
+        }
+        
+        /**
+         * Gets (as xml) the "type" attribute
+         */
+        public org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type xgetType()
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type target = null;
+                target = (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type)get_store().find_attribute_user(TYPE$2);
+                return target;
+            }
+        }
+        
+        /**
+         * Sets the "type" attribute
+         */
+        public void setType(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type.Enum type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.apache.xmlbeans.SimpleValue target = null;
+                target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(TYPE$2);
+                if (target == null)
+                {
+                    target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(TYPE$2);
+                }
+                target.setEnumValue(type);
+            }
+        }
+        
+        /**
+         * Sets (as xml) the "type" attribute
+         */
+        public void xsetType(org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type type)
+        {
+            synchronized (monitor())
+            {
+                check_orphaned();
+                org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type target = null;
+                target = (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type)get_store().find_attribute_user(TYPE$2);
+                if (target == null)
+                {
+                    target = (org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type)get_store().add_attribute_user(TYPE$2);
+                }
+                target.set(type);
+            }
+        }
+        /**
+         * An XML type(@).
+         *
+         * This is an atomic type that is a restriction of org.bmecat.test.ARTICLESTATUSDocument$ARTICLESTATUS$Type.
+         */
+        public static class TypeImpl extends org.apache.xmlbeans.impl.values.JavaStringEnumerationHolderEx implements org.bmecat.test.ARTICLESTATUSDocument.ARTICLESTATUS.Type
+        {
+            private static final long serialVersionUID = 1L;
+            
+            public TypeImpl(org.apache.xmlbeans.SchemaType sType)
+            {
+                super(sType, false);
+            }
+            
+            protected TypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+            {
+                super(sType, b);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * XML Type:  dtSTRING
+ * Namespace: http://www.test.bmecat.org
+ * Java type: org.bmecat.test.DtSTRING
+ *
+ * Automatically generated - do not modify.
+ */
+package org.bmecat.test.impl;
+/**
+ * An XML dtSTRING(@http://www.test.bmecat.org).
+ *
+ * This is an atomic type that is a restriction of org.bmecat.test.DtSTRING.
+ */
+public class DtSTRINGImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements org.bmecat.test.DtSTRING
+{
+    private static final long serialVersionUID = 1L;
+    
+    public DtSTRINGImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, false);
+    }
+    
+    protected DtSTRINGImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * XML Type:  stringItemType
+ * Namespace: http://www.world.com
+ * Java type: com.world.StringItemType
+ *
+ * Automatically generated - do not modify.
+ */
+package com.world.impl;
+/**
+ * An XML stringItemType(@http://www.world.com).
+ *
+ * This is an atomic type that is a restriction of com.world.StringItemType.
+ */
+public class StringItemTypeImpl extends org.apache.xmlbeans.impl.values.JavaStringHolderEx implements com.world.StringItemType
+{
+    private static final long serialVersionUID = 1L;
+    
+    public StringItemTypeImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType, true);
+    }
+    
+    protected StringItemTypeImpl(org.apache.xmlbeans.SchemaType sType, boolean b)
+    {
+        super(sType, b);
+    }
+    
+    private static final javax.xml.namespace.QName DATE$0 = 
+        new javax.xml.namespace.QName("", "date");
+    
+    
+    /**
+     * Gets the "date" attribute
+     */
+    public java.lang.String getDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target.getStringValue();
+        }
+    }
+    
+    /**
+     * Gets (as xml) the "date" attribute
+     */
+    public org.apache.xmlbeans.XmlString xgetDate()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DATE$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Sets the "date" attribute
+     */
+    public void setDate(java.lang.String date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.SimpleValue target = null;
+            target = (org.apache.xmlbeans.SimpleValue)get_store().find_attribute_user(DATE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.SimpleValue)get_store().add_attribute_user(DATE$0);
+            }
+            target.setStringValue(date);
+        }
+    }
+    
+    /**
+     * Sets (as xml) the "date" attribute
+     */
+    public void xsetDate(org.apache.xmlbeans.XmlString date)
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            org.apache.xmlbeans.XmlString target = null;
+            target = (org.apache.xmlbeans.XmlString)get_store().find_attribute_user(DATE$0);
+            if (target == null)
+            {
+                target = (org.apache.xmlbeans.XmlString)get_store().add_attribute_user(DATE$0);
+            }
+            target.set(date);
+        }
+    }
+}
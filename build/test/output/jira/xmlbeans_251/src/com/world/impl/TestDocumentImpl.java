@@ -0,0 +1,100 @@
+/*
+ * An XML document type.
+ * Localname: Test
+ * Namespace: http://www.world.com
+ * Java type: com.world.TestDocument
+ *
+ * Automatically generated - do not modify.
+ */
+package com.world.impl;
+/**
+ * A document containing one Test(@http://www.world.com) element.
+ *
+ * This is a complex type.
+ */
+public class TestDocumentImpl extends org.apache.xmlbeans.impl.values.XmlComplexContentImpl implements com.world.TestDocument
+{
+    private static final long serialVersionUID = 1L;
+    
+    public TestDocumentImpl(org.apache.xmlbeans.SchemaType sType)
+    {
+        super(sType);
+    }
+    
+    private static final javax.xml.namespace.QName TEST$0 = 
+        new javax.xml.namespace.QName("http://www.world.com", "Test");
+    
+    
+    /**
+     * Gets the "Test" element
+     */
+    public com.world.CountryItemType getTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.world.CountryItemType target = null;
+            target = (com.world.CountryItemType)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                return null;
+            }
+            return target;
+        }
+    }
+    
+    /**
+     * Tests for nil "Test" element
+     */
+    public boolean isNilTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.world.CountryItemType target = null;
+            target = (com.world.CountryItemType)get_store().find_element_user(TEST$0, 0);
+            if (target == null) return false;
+            return target.isNil();
+        }
+    }
+    
+    /**
+     * Sets the "Test" element
+     */
+    public void setTest(com.world.CountryItemType test)
+    {
+        generatedSetterHelperImpl(test, TEST$0, 0, org.apache.xmlbeans.impl.values.XmlObjectBase.KIND_SETTERHELPER_SINGLETON);
+    }
+    
+    /**
+     * Appends and returns a new empty "Test" element
+     */
+    public com.world.CountryItemType addNewTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.world.CountryItemType target = null;
+            target = (com.world.CountryItemType)get_store().add_element_user(TEST$0);
+            return target;
+        }
+    }
+    
+    /**
+     * Nils the "Test" element
+     */
+    public void setNilTest()
+    {
+        synchronized (monitor())
+        {
+            check_orphaned();
+            com.world.CountryItemType target = null;
+            target = (com.world.CountryItemType)get_store().find_element_user(TEST$0, 0);
+            if (target == null)
+            {
+                target = (com.world.CountryItemType)get_store().add_element_user(TEST$0);
+            }
+            target.setNil();
+        }
+    }
+}
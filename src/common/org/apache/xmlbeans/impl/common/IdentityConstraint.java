@@ -32,11 +32,27 @@ public class IdentityConstraint {
     private ElementState _elementStack;
     private Collection _errorListener;
     private boolean _invalid;
+    private int _errorCount;
     private boolean _trackIdrefs; // We only track idrefs if validating from the root element
+    private boolean _collectIdrefs;
+    private IdValues _idValues;
+    private IdValues _capture;
 
     public IdentityConstraint(Collection  errorListener, boolean trackIdrefs) {
+        this(errorListener, trackIdrefs, null);
+    }
+
+    /**
+     * Creates an engine whose ID and IDREF values go into the given ones,
+     * where IDs are checked against those already there.  IDREFs are
+     * collected even when they are not tracked, to be checked later with
+     * those of the rest of the document.
+     */
+    public IdentityConstraint(Collection errorListener, boolean trackIdrefs, IdValues idValues) {
         _errorListener = errorListener;
         _trackIdrefs = trackIdrefs;
+        _collectIdrefs = trackIdrefs || idValues != null;
+        _idValues = idValues == null ? new IdValues() : idValues;
     }
 
     public void element(Event e, SchemaType st, SchemaIdentityConstraint[] ics) {
@@ -86,6 +102,51 @@ public class IdentityConstraint {
         return !_invalid;
     }
 
+    /**
+     * Called for each error found, before it is reported to the error
+     * listener; returns false if it is not to be.
+     */
+    protected boolean reportError() {
+        return true;
+    }
+
+    /**
+     * Returns the number of errors found so far.
+     */
+    public int getErrorCount() {
+        return _errorCount;
+    }
+
+    /**
+     * Also puts the ID and IDREF values found from now on into the given
+     * ones, or stops doing so if null.
+     */
+    public void captureIdValues(IdValues capture) {
+        _capture = capture;
+    }
+
+    /**
+     * Adds the ID and IDREF values of a part of the document which is not
+     * validated, unless one of its IDs is already there, in which case
+     * false is returned.
+     */
+    public boolean addIdValues(IdValues values) {
+        _idValues.flush();
+
+        return _idValues.addAll(values);
+    }
+
+    /**
+     * Returns true if a key, keyref or unique constraint is in scope.
+     */
+    public boolean hasSelectors() {
+        for (ConstraintState cs = _constraintStack ; cs != null ; cs = cs._next)
+            if (cs instanceof SelectorState)
+                return true;
+
+        return false;
+    }
+
     private void newConstraintState(SchemaIdentityConstraint ic, Event e, SchemaType st)
     {
         if (ic.getConstraintCategory() == SchemaIdentityConstraint.CC_KEYREF)
@@ -98,7 +159,7 @@ public class IdentityConstraint {
     {
         // Construct states to hold the values for IDs and IDRefs
         IdState ids = new IdState();
-        if (_trackIdrefs)
+        if (_collectIdrefs)
             new IdRefState(ids);
     }
 
@@ -116,8 +177,9 @@ public class IdentityConstraint {
     private void emitError ( Event event, String code, Object[] args )
     {
         _invalid = true;
+        _errorCount++;
 
-        if (_errorListener != null)
+        if (reportError() && _errorListener != null)
         {
             assert event != null;
             
@@ -151,8 +213,9 @@ public class IdentityConstraint {
     private void emitError ( Event event, String msg )
     {
         _invalid = true;
+        _errorCount++;
 
-        if (_errorListener != null)
+        if (reportError() && _errorListener != null)
         {
             assert event != null;
             
@@ -206,6 +269,155 @@ public class IdentityConstraint {
         }
     }
 
+    /**
+     * Returns the value of a field, as an object which equals the values
+     * of other fields which are the same in the value space.  Strings are
+     * used for the types derived from xs:string, and Longs for the integral
+     * values of those derived from xs:decimal, so that the XmlObject for
+     * the value is only made for other types.  Returns null for an invalid
+     * value.
+     */
+    private static Object keyValue(SchemaType st, String value)
+    {
+        if (st.getSimpleVariety() == SchemaType.ATOMIC)
+        {
+            switch (st.getPrimitiveType().getBuiltinTypeCode())
+            {
+                case SchemaType.BTC_STRING:
+                    if (isPlainString(st))
+                        return XmlWhitespace.collapse(value, st.getWhiteSpaceRule());
+
+                    break;
+
+                case SchemaType.BTC_DECIMAL:
+                    Long l = longValue(value);
+
+                    if (l != null)
+                        return l;
+
+                    break;
+            }
+        }
+
+        XmlObject o = newValue(st, value);
+
+        if (o == null)
+            return null;
+
+        SchemaType type = ((SimpleValue) o).instanceType();
+
+        // The member type of a union
+
+        if (type != null && type.getSimpleVariety() == SchemaType.ATOMIC)
+        {
+            switch (type.getPrimitiveType().getBuiltinTypeCode())
+            {
+                case SchemaType.BTC_STRING:
+                    return ((SimpleValue) o).getStringValue();
+
+                case SchemaType.BTC_DECIMAL:
+                    try {
+                        return Long.valueOf(((SimpleValue) o).getBigDecimalValue().longValueExact());
+                    }
+                    catch (ArithmeticException e) {
+                        // Not integral, or too big for a long
+                    }
+
+                    break;
+            }
+        }
+
+        XmlObjectList list = new XmlObjectList(1);
+        list.set(o, 0);
+
+        return list;
+    }
+
+    /**
+     * Tells whether every string is a value of st once its whitespace is
+     * collapsed: st is xs:string, xs:normalizedString or xs:token, or a
+     * restriction of one of them without a facet other than whiteSpace.
+     */
+    private static boolean isPlainString(SchemaType st)
+    {
+        if (st.hasPatternFacet() || st.getEnumerationValues() != null ||
+            st.getFacet(SchemaType.FACET_LENGTH) != null ||
+            st.getFacet(SchemaType.FACET_MIN_LENGTH) != null ||
+            st.getFacet(SchemaType.FACET_MAX_LENGTH) != null)
+            return false;
+
+        while (!st.isBuiltinType())
+            st = st.getBaseType();
+
+        switch (st.getBuiltinTypeCode())
+        {
+            case SchemaType.BTC_STRING:
+            case SchemaType.BTC_NORMALIZED_STRING:
+            case SchemaType.BTC_TOKEN:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tells whether a collapsed ID or IDREF is a value of st: an NCName,
+     * which also meets the facets of st when st is not a builtin type.
+     */
+    private static boolean isValidName(SchemaType st, String value)
+    {
+        return XMLChar.isValidNCName(value) &&
+            (st.isBuiltinType() || newValue(st, value) != null);
+    }
+
+    /**
+     * Returns the value of an integer in the lexical space of xs:decimal
+     * which is certain to fit in a long, or null.
+     */
+    private static Long longValue(String value)
+    {
+        int length = value.length();
+        int i = length > 0 && (value.charAt(0) == '+' || value.charAt(0) == '-') ? 1 : 0;
+
+        if (i == length || length - i > 18)
+            return null;
+
+        long l = 0;
+
+        for (int j = i ; j < length ; j++)
+        {
+            char ch = value.charAt(j);
+
+            if (ch < '0' || ch > '9')
+                return null;
+
+            l = l * 10 + (ch - '0');
+        }
+
+        return Long.valueOf(value.charAt(0) == '-' ? -l : l);
+    }
+
+    /**
+     * Returns the value of a key, unique or keyref as it is shown in errors.
+     */
+    private static String keyString(Object key)
+    {
+        if (!(key instanceof CompositeKey))
+            return key instanceof String ? XmlObjectList.prettytrim((String) key) : key.toString();
+
+        Object[] values = ((CompositeKey) key)._values;
+        StringBuffer b = new StringBuffer();
+
+        for (int i = 0 ; i < values.length ; i++)
+        {
+            if (i != 0) b.append(" ");
+            b.append(keyString(values[i]));
+        }
+
+        return b.toString();
+    }
+
     /**
      * Return the simple type for schema type. If the schema type is already
      * simple, just return it. If it is a complex type with simple content,
@@ -231,6 +443,11 @@ public class IdentityConstraint {
         ConstraintState _next;
 
         ConstraintState()
+        {
+            push();
+        }
+
+        void push()
         {
             setSavePoint(_constraintStack);
             _next = _constraintStack;
@@ -247,33 +464,34 @@ public class IdentityConstraint {
 
     public class SelectorState extends ConstraintState {
         SchemaIdentityConstraint _constraint;
-        Set _values = new LinkedHashSet();
+        Set _values;
         XPath.ExecutionContext _context;
+        FieldState _freeFieldStates;
 
         SelectorState(SchemaIdentityConstraint constraint, Event e, SchemaType st) {
             _constraint = constraint;
             _context = new XPath.ExecutionContext();
             _context.init((XPath)_constraint.getSelectorPath());
 
+            // The values of a keyref are checked in order
+            _values = constraint.getConstraintCategory() == SchemaIdentityConstraint.CC_KEYREF
+                ? (Set) new LinkedHashSet() : new HashSet();
+
             if ( ( _context.start() & XPath.ExecutionContext.HIT ) != 0 )
                 createFieldState(e, st);
         }
 
-        void addFields(XmlObjectList fields, Event e) 
+        void addFields(Object fields, Event e) 
         {
-            if (_constraint.getConstraintCategory() == SchemaIdentityConstraint.CC_KEYREF)
-                _values.add(fields);
-            else if (_values.contains(fields))
+            if (!_values.add(fields))
             {
                 if (_constraint.getConstraintCategory() == SchemaIdentityConstraint.CC_UNIQUE)
                     emitError(e, XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$DUPLICATE_UNIQUE,
-                        new Object[] { fields, QNameHelper.pretty(_constraint.getName()) });
+                        new Object[] { keyString(fields), QNameHelper.pretty(_constraint.getName()) });
                 else
                     emitError(e, XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$DUPLICATE_KEY,
-                        new Object[] { fields, QNameHelper.pretty(_constraint.getName()) });
+                        new Object[] { keyString(fields), QNameHelper.pretty(_constraint.getName()) });
             }
-            else
-                _values.add(fields);
         }
 
         void element(Event e, SchemaType st) 
@@ -288,7 +506,18 @@ public class IdentityConstraint {
         }
 
         void createFieldState(Event e, SchemaType st) {
-            new FieldState(this, e, st);
+            // The field states of the elements selected are reused, there
+            // being one for each row of a table
+            FieldState fs = _freeFieldStates;
+
+            if (fs == null)
+                new FieldState(this, e, st);
+            else
+            {
+                _freeFieldStates = fs._nextFree;
+                fs.start(e, st);
+                fs.push();
+            }
         }
 
         void remove(Event e) {
@@ -310,12 +539,32 @@ public class IdentityConstraint {
 
     public class KeyrefState extends SelectorState {
         Map _keyValues = new HashMap();
+        SelectorState _keyState;
         private Object CHILD_ADDED = new Object();
         private Object CHILD_REMOVED = new Object();
         private Object SELF_ADDED = new Object();
 
         KeyrefState(SchemaIdentityConstraint constraint, Event e, SchemaType st) {
             super(constraint, e, st);
+
+            // A key at the same stack level as this, which is before it, gives
+            // it all its values.  Those of the keyref which it already has
+            // need not be kept.
+            for (ConstraintState cs = _next ; cs != null && cs != _elementStack._savePoint ; cs = cs._next)
+            {
+                if (cs instanceof SelectorState)
+                {
+                    SelectorState sel = (SelectorState)cs;
+                    if (sel._constraint == _constraint.getReferencedKey())
+                        _keyState = sel;
+                }
+            }
+        }
+
+        void addFields(Object fields, Event e)
+        {
+            if (_keyState == null || !_keyState._values.contains(fields))
+                _values.add(fields);
         }
 
         void addKeyValues(final Set values, boolean child)
@@ -347,34 +596,25 @@ public class IdentityConstraint {
 
         private boolean hasKeyValue(Object key)
         {
+            // The values of a key at the same stack level as this
+            if (_keyState != null && _keyState._values.contains(key))
+                return true;
+
             Object value = _keyValues.get(key);
             return value != null && value != CHILD_REMOVED;
         }
 
         void remove(Event e) {
-            // First check if there are any keys at the same stack level as this
-            // that may contribute key values to me
-            for (ConstraintState cs = _next ; cs != null && cs != _elementStack._savePoint ; cs = cs._next)
-            {
-                if (cs instanceof SelectorState)
-                {
-                    SelectorState sel = (SelectorState)cs;
-                    if (sel._constraint == _constraint.getReferencedKey())
-                        addKeyValues(sel._values, false);
-                }
-            }
-
-
             // validate all values have been seen
             for (Iterator it = _values.iterator() ; it.hasNext() ; )
             {
 
-                XmlObjectList fields = (XmlObjectList)it.next();
-                if (fields.unfilled() < 0 && ! hasKeyValue(fields))
+                Object fields = it.next();
+                if (! hasKeyValue(fields))
                 {
                     // KHK: cvc-identity-constraint.4.3 ?
                 	emitError(e, XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$KEYREF_KEY_NOT_FOUND,
-                	    new Object[] {fields, QNameHelper.pretty(_constraint.getName())});
+                	    new Object[] {keyString(fields), QNameHelper.pretty(_constraint.getName())});
                     return;
                 }
             }
@@ -385,7 +625,8 @@ public class IdentityConstraint {
         SelectorState _selector;
         XPath.ExecutionContext[] _contexts;
         boolean[] _needsValue;
-        XmlObjectList _value;
+        Object[] _value;
+        FieldState _nextFree;
 
         FieldState(SelectorState selector, Event e, SchemaType st) {
 
@@ -397,11 +638,22 @@ public class IdentityConstraint {
             int fieldCount = ic.getFields().length;
             _contexts = new XPath.ExecutionContext[fieldCount];
             _needsValue = new boolean[fieldCount];
-            _value = new XmlObjectList(fieldCount);
+            _value = new Object[fieldCount];
 
             for (int i = 0 ; i < fieldCount ; i++)
-            {
                 _contexts[i] = new XPath.ExecutionContext();
+
+            start(e, st);
+        }
+
+        void start(Event e, SchemaType st)
+        {
+            SchemaIdentityConstraint ic = _selector._constraint;
+
+            for (int i = 0 ; i < _contexts.length ; i++)
+            {
+                _value[i] = null;
+                _needsValue[i] = false;
                 _contexts[i].init((XPath)ic.getFieldPath(i));
                 if ( ( _contexts[i].start() & XPath.ExecutionContext.HIT ) != 0 )
                 {
@@ -417,6 +669,23 @@ public class IdentityConstraint {
 
         }
 
+        private boolean set(Object value, int index)
+        {
+            if (_value[index] != null)
+                return false;
+
+            _value[index] = value;
+            return true;
+        }
+
+        private int unfilled()
+        {
+            for (int i = 0 ; i < _value.length ; i++)
+                if (_value[i] == null) return i;
+
+            return -1;
+        }
+
         void element(Event e, SchemaType st)
         {
             for (int i = 0 ; i < _contexts.length ; i++) {
@@ -447,12 +716,12 @@ public class IdentityConstraint {
 
             for (int i = 0 ; i < _contexts.length ; i++) {
                 if ( _contexts[i].attr(name) ) {
-                    XmlObject o = newValue(st, value);
+                    Object o = keyValue(st, value);
 
                     // Ignore invalid values. Assume that validation catches these
                     if (o == null) return;
 
-                    boolean set = _value.set(o, i);
+                    boolean set = set(o, i);
 
                     // KHK: ?
                     if (! set)
@@ -480,12 +749,12 @@ public class IdentityConstraint {
                     }
 
                     SchemaType simpleType = getSimpleType(st);
-                    XmlObject o = newValue(simpleType, value);
+                    Object o = keyValue(simpleType, value);
 
                     // Ignore invalid values. Assume that validation catches these
                     if (o == null) return;
 
-                    boolean set = _value.set(o, i);
+                    boolean set = set(o, i);
 
                     // KHK: ?
                     if (! set)
@@ -509,26 +778,35 @@ public class IdentityConstraint {
 
         void remove(Event e) 
         {
+            int unfilled = unfilled();
 
             if (_selector._constraint.getConstraintCategory() == SchemaIdentityConstraint.CC_KEY &&
-                _value.unfilled() >= 0 )
+                unfilled >= 0 )
             {
                 // KHK: cvc-identity-constraint.4.2.1 ?
                 // keys must have all values supplied
-                emitError(e, "Key " + QNameHelper.pretty(_selector._constraint.getName()) + " is missing field with xpath: '" + _selector._constraint.getFields()[_value.unfilled()] + "'");
+                emitError(e, "Key " + QNameHelper.pretty(_selector._constraint.getName()) + " is missing field with xpath: '" + _selector._constraint.getFields()[unfilled] + "'");
             }
-            else
+            else if (unfilled < 0)
             {
-                // Finished. Add these fields to the selector state
-                _selector.addFields(_value, e);
+                // Finished. Add these fields to the selector state.  Values
+                // with missing fields never equal any other, so are not kept.
+                if (_value.length == 1)
+                    _selector.addFields(_value[0], e);
+                else
+                    _selector.addFields(new CompositeKey((Object[]) _value.clone()), e);
             }
+
+            // This is off the stack once the element ends
+            _nextFree = _selector._freeFieldStates;
+            _selector._freeFieldStates = this;
         }
 
     }
 
     public class IdState extends ConstraintState
     {
-        Set _values = new LinkedHashSet();
+        Set _values = _idValues._ids;
 
         IdState() { }
 
@@ -559,18 +837,19 @@ public class IdentityConstraint {
 
             if (XmlID.type.isAssignableFrom(st))
             {
-                XmlObjectList xmlValue = new XmlObjectList(1);
-                XmlObject o = newValue(XmlID.type, value);
+                String id = XmlWhitespace.collapse(value);
 
                 // Ignore invalid values. Assume that validation catches these
-                if (o == null) return;
+                if (!isValidName(st, id))
+                    return;
 
-                xmlValue.set(o, 0);
+                _idValues.flush();
 
-                if (_values.contains(xmlValue))
+                if (!_values.add(id))
                     emitError(e, XmlErrorCodes.ID_VALID$DUPLICATE, new Object[] { value });
-                else
-                    _values.add(xmlValue);
+
+                if (_capture != null)
+                    _capture._ids.add(id);
             }
         }
 
@@ -588,7 +867,15 @@ public class IdentityConstraint {
         IdRefState(IdState ids)
         {
             _ids = ids;
-            _values = new ArrayList();
+            _values = _idValues._idrefs;
+        }
+
+        private void add(String idref)
+        {
+            _values.add(idref);
+
+            if (_capture != null)
+                _capture._idrefs.add(idref);
         }
 
         private void handleValue(Event e, SchemaType st, String value)
@@ -603,32 +890,48 @@ public class IdentityConstraint {
             }
             if (XmlIDREFS.type.isAssignableFrom(st))
             {
-                XmlIDREFS lv = (XmlIDREFS)newValue(XmlIDREFS.type, value);
+                String idrefs = XmlWhitespace.collapse(value);
 
                 // Ignore invalid values. Assume that validation catches these
-                if (lv == null) return;
+                if (idrefs.length() == 0 ||
+                    (!st.isBuiltinType() && newValue(st, idrefs) == null))
+                    return;
 
-                List l = lv.xgetListValue();
+                List l = new ArrayList();
 
-                // Add one value for each idref in the list
-                for (int i = 0 ; i < l.size() ; i++)
+                for (int i = 0 ; i < idrefs.length() ; )
                 {
-                    XmlObjectList xmlValue = new XmlObjectList(1);
-                    XmlIDREF idref = (XmlIDREF)l.get(i);
-                    xmlValue.set(idref, 0);
-                    _values.add(xmlValue);
+                    int j = idrefs.indexOf(' ', i);
+
+                    if (j < 0)
+                        j = idrefs.length();
+
+                    String idref = idrefs.substring(i, j);
+
+                    if (!XMLChar.isValidNCName(idref))
+                        return;
+
+                    l.add(idref);
+
+                    i = j + 1;
                 }
+
+                _idValues.flush();
+
+                // Add one value for each idref in the list
+                for (int i = 0 ; i < l.size() ; i++)
+                    add((String) l.get(i));
             }
             else if (XmlIDREF.type.isAssignableFrom(st))
             {
-                XmlObjectList xmlValue = new XmlObjectList(1);
-                XmlIDREF idref = (XmlIDREF)st.newValue(value);
+                String idref = XmlWhitespace.collapse(value);
 
                 // Ignore invalid values. Assume that validation catches these
-                if (idref == null) return;
+                if (!isValidName(st, idref))
+                    return;
 
-                xmlValue.set(idref, 0);
-                _values.add(xmlValue);
+                _idValues.flush();
+                add(idref);
             }
         }
 
@@ -645,6 +948,9 @@ public class IdentityConstraint {
         }
         void remove(Event e) 
         { 
+            if (!_trackIdrefs)
+                return;
+
             // Validate each ref has a corresponding ID
             for (Iterator it = _values.iterator() ; it.hasNext() ; )
             {
@@ -660,6 +966,67 @@ public class IdentityConstraint {
         void endElement(Event e) { }
     }
 
+    /**
+     * The ID and IDREF values met while validating, in document order.  The
+     * parts of a document validated separately each have their own, which
+     * are then added in turn to those of the document.
+     */
+    public static class IdValues
+    {
+        final Set _ids = new LinkedHashSet();
+        final List _idrefs = new ArrayList();
+
+        /**
+         * Called before a value is added, to add first any values which
+         * come before it in the document.
+         */
+        protected void flush()
+        {
+        }
+
+        /**
+         * Adds the values of other, which come after these in the document,
+         * unless one of its IDs is already here, in which case nothing is
+         * added and false is returned.
+         */
+        public boolean addAll(IdValues other)
+        {
+            for (Iterator it = other._ids.iterator() ; it.hasNext() ; )
+            {
+                if (_ids.contains(it.next()))
+                    return false;
+            }
+
+            _ids.addAll(other._ids);
+            _idrefs.addAll(other._idrefs);
+
+            return true;
+        }
+    }
+
+    /**
+     * The value of a key, unique or keyref with more than one field.
+     */
+    private static final class CompositeKey
+    {
+        final Object[] _values;
+
+        CompositeKey(Object[] values)
+        {
+            _values = values;
+        }
+
+        public boolean equals(Object o)
+        {
+            return o instanceof CompositeKey && Arrays.equals(_values, ((CompositeKey) o)._values);
+        }
+
+        public int hashCode()
+        {
+            return Arrays.hashCode(_values);
+        }
+    }
+
     private static class ElementState {
         ElementState _next;
         boolean _hasConstraints;
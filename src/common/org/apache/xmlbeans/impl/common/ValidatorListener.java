@@ -57,4 +57,68 @@ public interface ValidatorListener
 
         boolean textIsWhitespace ( );
     }
+
+    /**
+     * An event over a tree in memory, which can split off the element of a
+     * BEGIN event so that it gets validated on its own.
+     */
+    public interface SplittableEvent extends Event
+    {
+        // On BEGIN, the walk then goes on after the END of the element
+        Subtree split ( );
+    }
+
+    /**
+     * An event over a tree in memory, which can remember something about
+     * the element of an END event until the element is changed.
+     */
+    public interface RememberingEvent extends Event
+    {
+        // On END
+        void remember ( Object o );
+
+        // On BEGIN, what was remembered, or null if nothing was or the
+        // element has been changed since
+        Object getRemembered ( );
+
+        // On BEGIN, the walk then goes on after the END of the element
+        void skip ( );
+    }
+
+    /**
+     * An event over a tree in memory, whose walk can be cut short when the
+     * sink is not interested in the rest of the tree.
+     */
+    public interface StoppableEvent extends Event
+    {
+        // On any event, the walk then goes on with the END of the tree
+        void stop ( );
+    }
+
+    /**
+     * An element split off a tree.  Its events are sent as if it were the
+     * whole tree, starting with a BEGIN with no name.
+     */
+    public interface Subtree
+    {
+        /**
+         * Sends the events of the subtree to the sink on the calling thread,
+         * which need not be the one walking the tree; the events have no
+         * location.  Returns false, having stopped part way, if the tree
+         * would have to be modified to be read.
+         */
+        boolean validateConcurrently ( ValidatorListener sink );
+
+        /**
+         * Sends the events of the subtree, with their locations, to the sink
+         * on the thread walking the tree.
+         */
+        void validate ( ValidatorListener sink );
+
+        /**
+         * Remembers something about the element, on the thread walking the
+         * tree, like RememberingEvent.
+         */
+        void remember ( Object o );
+    }
 }
\ No newline at end of file
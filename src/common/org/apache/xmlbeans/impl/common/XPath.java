@@ -50,6 +50,7 @@ public class XPath
         public static final int HIT     = 0x1;
         public static final int DESCEND = 0x2;
         public static final int ATTRS   = 0x4;
+        public static final int TEXT    = 0x8;
         
         public final void init ( XPath xpath )
         {
@@ -61,10 +62,15 @@ public class XPath
                 
                 for ( int i = 0 ; i < _paths.length ; i++ )
                     _paths[ i ] = new PathContext();
+
+                _masks = new long [ 16 ];
+                _positions = new int [ 16 * xpath._positionals.length ];
             }
 
             _stack.clear();
 
+            clearPositions( 0 );
+
             for ( int i = 0 ; i < _paths.length ; i++ )
                 _paths[ i ].init( xpath._selector._paths[ i ] );
         }
@@ -82,13 +88,28 @@ public class XPath
         public final int element ( QName name )
         {
             assert name != null;
-            
+
+            long mask = _xpath._predicates.length == 0 ? 0 : evaluate( name );
+
+            int depth = _stack.size();
+
             _stack.add( name );
-            
+
+            if (depth == _masks.length)
+            {
+                long[] newMasks = new long [ depth * 2 ];
+                System.arraycopy( _masks, 0, newMasks, 0, depth );
+                _masks = newMasks;
+            }
+
+            _masks[ depth ] = mask;
+
+            clearPositions( depth + 1 );
+
             int result = 0;
             
             for ( int i = 0 ; i < _paths.length ; i++ )
-                result |= _paths[ i ].element( name );
+                result |= _paths[ i ].element( name, mask );
 
             return result;
         }
@@ -103,6 +124,85 @@ public class XPath
             return hit;
         }
 
+        /**
+         * Returns true if the text children of the element most recently
+         * passed to {@link #element} (or of the start node) are selected,
+         * which is the case for paths ending in text().
+         */
+        public final boolean text ( )
+        {
+            for ( int i = 0 ; i < _paths.length ; i++ )
+            {
+                if (_paths[ i ].text())
+                    return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Called while evaluating attribute predicates, for the element
+         * just passed to {@link #element}.  Execution contexts which can see
+         * the attributes of the current element override this; by default
+         * no attribute predicate is satisfied.
+         */
+        protected String getAttributeValue ( QName name )
+        {
+            return null;
+        }
+
+        // Computes the set of predicates satisfied by the element about to
+        // be pushed, bumping the child counts used by positional predicates
+        // in the current (parent) frame.
+
+        private long evaluate ( QName name )
+        {
+            Predicate[] positionals = _xpath._positionals;
+            int base = _stack.size() * positionals.length;
+
+            long mask = 0;
+
+            for ( int i = 0 ; i < positionals.length ; i++ )
+            {
+                Predicate p = positionals[ i ];
+
+                if (matchName( p._nameTest, name ) &&
+                        ++_positions[ base + i ] == p._position)
+                    mask |= 1L << p._id;
+            }
+
+            Predicate[] predicates = _xpath._predicates;
+
+            for ( int i = 0 ; i < predicates.length ; i++ )
+            {
+                Predicate p = predicates[ i ];
+
+                if (p._attrName != null &&
+                        p._value.equals( getAttributeValue( p._attrName ) ))
+                    mask |= 1L << p._id;
+            }
+
+            return mask;
+        }
+
+        private void clearPositions ( int depth )
+        {
+            int n = _xpath._positionals.length;
+
+            if (n == 0)
+                return;
+
+            if ((depth + 1) * n > _positions.length)
+            {
+                int[] newPositions = new int [ (depth + 1) * n * 2 ];
+                System.arraycopy( _positions, 0, newPositions, 0, _positions.length );
+                _positions = newPositions;
+            }
+
+            for ( int i = depth * n ; i < (depth + 1) * n ; i++ )
+                _positions[ i ] = 0;
+        }
+
         public final void end ( )
         {
             _stack.remove( _stack.size() - 1 );
@@ -124,9 +224,14 @@ public class XPath
                 _prev.clear();
             }
 
-            private QName top ( int i )
+            private boolean matchTop ( Step s, int i )
             {
-                return (QName) ExecutionContext.this._stack.get( _stack.size() - 1 - i );
+                int depth = _stack.size() - 1 - i;
+
+                return
+                    s.match(
+                        (QName) ExecutionContext.this._stack.get( depth ),
+                        _masks[ depth ] );
             }
 
             // goes back to the begining of the sequence since last // wildcard
@@ -151,7 +256,7 @@ public class XPath
                     
                     for ( Step s = _curr ; !s._deep ; s = s._prev )
                     {
-                        if (!s.match( top( t++ )))
+                        if (!matchTop( s, t++ ))
                             continue search;
                     }
 
@@ -176,7 +281,7 @@ public class XPath
                 return HIT;
             }
             
-            int element ( QName name )
+            int element ( QName name, long mask )
             {
                 //System.out.println("  Path.element: " + name);
                 _prev.add( _curr );
@@ -186,7 +291,7 @@ public class XPath
 
                 assert _curr._name != null;
 
-                if (!_curr._attr && _curr.match( name ))
+                if (_curr.matchElement( name, mask ))
                 {
                     if ((_curr = _curr._next)._name != null)
                         return _curr._flags;
@@ -204,7 +309,7 @@ public class XPath
                     if (_curr == null)
                         return 0;
 
-                    if (_curr.match( name ))
+                    if (_curr.matchElement( name, mask ))
                     {
                         _curr = _curr._next;
                         break;
@@ -219,7 +324,12 @@ public class XPath
             
             boolean attr ( QName name )
             {
-                return _curr != null && _curr._attr && _curr.match( name );
+                return _curr != null && _curr._attr && _curr.match( name, 0 );
+            }
+
+            boolean text ( )
+            {
+                return _curr != null && _curr._text;
             }
 
             void end ( )
@@ -235,6 +345,8 @@ public class XPath
         private XPath         _xpath;
         private ArrayList     _stack;
         private PathContext[] _paths;
+        private long[]        _masks;     // predicates satisfied, per stack frame
+        private int[]         _positions; // child counts for positional predicates, per stack frame
     }
 
     //
@@ -262,15 +374,30 @@ public class XPath
     public static XPath compileXPath (
         String xpath, String currentNodeVar, Map namespaces )
             throws XPathCompileException
+    {
+        return compileXPath( xpath, currentNodeVar, namespaces, false );
+    }
+
+    /**
+     * Compiles a path, optionally accepting the extended syntax understood by
+     * the store's path engine: attribute-equality predicates
+     * (<code>a[@id='x']</code>), positional predicates (<code>a[3]</code>)
+     * and a trailing <code>text()</code> step.  Identity constraint paths
+     * must not use the extended syntax.
+     */
+    public static XPath compileXPath (
+        String xpath, String currentNodeVar, Map namespaces, boolean extended )
+            throws XPathCompileException
     {
         return
-            new CompilationContext( namespaces, currentNodeVar ).
+            new CompilationContext( namespaces, currentNodeVar, extended ).
                 compile( xpath );
     }
 
     private static class CompilationContext
     {
-        CompilationContext ( Map namespaces, String currentNodeVar )
+        CompilationContext (
+            Map namespaces, String currentNodeVar, boolean extended )
         {
             assert
                 _currentNodeVar == null ||
@@ -285,6 +412,9 @@ public class XPath
             
             _externalNamespaces =
                 namespaces == null ? new HashMap() : namespaces;
+
+            _extended = extended;
+            _predicates = new ArrayList();
         }
 
         XPath compile ( String expr ) throws XPathCompileException
@@ -647,7 +777,14 @@ public class XPath
 
         private Step addStep ( boolean deep, boolean attr, QName name, Step steps )
         {
-            Step step = new Step( deep, attr, name );
+            return addStep( deep, attr, false, name, null, steps );
+        }
+
+        private Step addStep (
+            boolean deep, boolean attr, boolean text, QName name,
+            Predicate[] predicates, Step steps )
+        {
+            Step step = new Step( deep, attr, text, name, predicates );
 
             if (steps == null)
                 return step;
@@ -700,9 +837,20 @@ public class XPath
                 else
                 {
                     tokenize( "child", "::" );
+
+                    if (_extended && tokenize( "text", "(", ")" ))
+                    {
+                        steps = addStep( deep, false, true, getAnyQName(), null, steps );
+                        deepDot = false;
+                        break;
+                    }
+
                     if ((name = tokenizeQName()) != null)
                     {
-                        steps = addStep( deep, false, name, steps );
+                        Predicate[] predicates =
+                            _extended ? tokenizePredicates( name ) : null;
+
+                        steps = addStep( deep, false, false, name, predicates, steps );
                         deep = false; // only this step needs to be deep
                         // other folowing steps will be deep only if they are preceded by // wildcard
                     }
@@ -736,6 +884,102 @@ public class XPath
             return addStep( false, false, null, steps );
         }
 
+        private Predicate[] tokenizePredicates ( QName name )
+            throws XPathCompileException
+        {
+            ArrayList predicates = null;
+
+            while ( tokenize( "[" ) )
+            {
+                Predicate predicate;
+
+                if (tokenize( "attribute", "::" ) || tokenize( "@" ))
+                {
+                    QName attrName = tokenizeAttrName();
+
+                    if (!tokenize( "=" ))
+                        throw newError( "Expected '='" );
+
+                    predicate = new Predicate( attrName, tokenizeQuotedUri() );
+                }
+                else
+                {
+                    // Positions are counted over the siblings which pass the
+                    // name test, so they must come before any other predicate
+
+                    if (predicates != null)
+                        throw newError( "Positional predicate must be the first predicate of a step" );
+
+                    predicate = new Predicate( name, tokenizePosition() );
+                }
+
+                if (!tokenize( "]" ))
+                    throw newError( "Expected ']'" );
+
+                if (predicates == null)
+                    predicates = new ArrayList();
+
+                predicates.add( internPredicate( predicate ) );
+            }
+
+            return
+                predicates == null
+                    ? null
+                    : (Predicate[]) predicates.toArray( new Predicate [ predicates.size() ] );
+        }
+
+        private QName tokenizeAttrName ( ) throws XPathCompileException
+        {
+            String ncName = tokenizeNCName();
+
+            // The default element namespace does not apply to attributes
+
+            if (!tokenize( ":" ))
+                return new QName( "", ncName );
+
+            return new QName( lookupPrefix( ncName ), tokenizeNCName() );
+        }
+
+        private int tokenizePosition ( ) throws XPathCompileException
+        {
+            parseWhitespace();
+
+            if (currChar() < '1' || currChar() > '9')
+                throw newError( "Expected attribute or position predicate" );
+
+            int position = 0;
+
+            for ( ; currChar() >= '0' && currChar() <= '9' ; advance() )
+            {
+                if (position >= Integer.MAX_VALUE / 10)
+                    throw newError( "Position out of range" );
+
+                position = position * 10 + currChar() - '0';
+            }
+
+            return position;
+        }
+
+        private Predicate internPredicate ( Predicate predicate )
+            throws XPathCompileException
+        {
+            int i = _predicates.indexOf( predicate );
+
+            if (i >= 0)
+                return (Predicate) _predicates.get( i );
+
+            // Satisfied predicates are tracked as a bit mask per element
+
+            if (_predicates.size() == 64)
+                throw newError( "Too many distinct predicates" );
+
+            predicate._id = _predicates.size();
+
+            _predicates.add( predicate );
+
+            return predicate;
+        }
+
         private void computeBacktrack ( Step steps )
             throws XPathCompileException
         {
@@ -773,7 +1017,11 @@ public class XPath
                 int n = 0;
                 Step u = s;
 
-                while ( u != t && u._name != null && !u.isWild() && !u._attr )
+                // Steps with predicates are left out, their tests may overlap
+                // with plain name tests just like wildcards
+
+                while ( u != t && u._name != null && !u.isWild() && !u._attr &&
+                            !u._text && u._predicates == null )
                 {
                     n++;
                     u = u._next;
@@ -832,7 +1080,7 @@ public class XPath
                         v = v._next;
                 }
 
-                if (u != t && u._attr)
+                if (u != t && (u._attr || u._text))
                 {
                     u._hasBacktrack = true;
                     u._backtrack = v;
@@ -879,7 +1127,11 @@ public class XPath
                     if (t._next != null && t._next._next == null)
                         s = addStep( t._deep, true, t._name, s );
                     else
-                        s = addStep( t._deep, t._attr, t._name, s );
+                    {
+                        s = addStep(
+                            t._deep, t._attr, t._text, t._name,
+                            t._predicates, s );
+                    }
                 }
 
                 computeBacktrack( s );
@@ -990,7 +1242,10 @@ public class XPath
                     "Unexpected char '" + (char) currChar() + "'" );
             }
 
-            return new XPath( selector, _sawDeepDot );
+            return
+                new XPath(
+                    selector, _sawDeepDot,
+                    (Predicate[]) _predicates.toArray( new Predicate [ _predicates.size() ] ) );
         }
 
         //split of prolog decls that are not standard XPath syntax
@@ -1005,6 +1260,9 @@ public class XPath
         private boolean _lastDeepDot;
 
         private String _currentNodeVar;
+
+        private boolean _extended;
+        private ArrayList _predicates;
         
        // private Map _namespaces;
         protected Map _namespaces;
@@ -1015,14 +1273,63 @@ public class XPath
         private int _column;
     }
 
+    private static boolean matchName ( QName test, QName name )
+    {
+        String local = test.getLocalPart();
+        String nameLocal = name.getLocalPart();
+        String uri;
+        String nameUri;
+
+        int localLength = local.length();
+        int uriLength;
+
+        // match any name to test when test is empty ""@""
+        if (localLength==0)
+        {
+            uri = test.getNamespaceURI();
+            uriLength = uri.length();
+
+            if (uriLength==0)
+                return true;
+
+            return uri.equals(name.getNamespaceURI());
+        }
+
+        if (localLength!=nameLocal.length())
+            return false;
+
+        uri = test.getNamespaceURI();
+        nameUri = name.getNamespaceURI();
+
+        if (uri.length()!=nameUri.length())
+            return false;
+
+        return local.equals(nameLocal) && uri.equals(nameUri);
+    }
+
     private static final class Step
     {
-        Step ( boolean deep, boolean attr, QName name )
+        Step (
+            boolean deep, boolean attr, boolean text, QName name,
+            Predicate[] predicates )
         {
             _name = name;
 
             _deep = deep;
             _attr = attr;
+            _text = text;
+
+            _predicates = predicates;
+
+            long predMask = 0;
+
+            if (predicates != null)
+            {
+                for ( int i = 0 ; i < predicates.length ; i++ )
+                    predMask |= 1L << predicates[ i ]._id;
+            }
+
+            _predMask = predMask;
 
             int flags = 0;
 
@@ -1032,6 +1339,9 @@ public class XPath
             if (_attr)
                 flags |= ExecutionContext.ATTRS;
 
+            if (_text)
+                flags |= ExecutionContext.TEXT;
+
             _flags = flags;
         }
 
@@ -1040,53 +1350,86 @@ public class XPath
             return _name.getLocalPart().length() == 0;
         }
 
-        boolean match ( QName name )
+        boolean match ( QName name, long mask )
         {
-            String local = _name.getLocalPart();
-            String nameLocal = name.getLocalPart();
-            String uri;
-            String nameUri;
-
-            int localLength = local.length();
-            int uriLength;
-
-            // match any name to _name when _name is empty ""@""
-            if (localLength==0)
-            {
-                uri = _name.getNamespaceURI();
-                uriLength = uri.length();
-
-                if (uriLength==0)
-                    return true;
-
-                return uri.equals(name.getNamespaceURI());
-            }
-
-            if (localLength!=nameLocal.length())
-                return false;
-
-            uri = _name.getNamespaceURI();
-            nameUri = name.getNamespaceURI();
-
-            if (uri.length()!=nameUri.length())
-                return false;
+            return matchName( _name, name ) && (mask & _predMask) == _predMask;
+        }
 
-            return local.equals(nameLocal) && uri.equals(nameUri);
+        boolean matchElement ( QName name, long mask )
+        {
+            return !_attr && !_text && match( name, mask );
         }
 
         final boolean _attr;
         final boolean _deep;
+        final boolean _text;
 
         int _flags;
         
         final QName _name;
 
+        final Predicate[] _predicates;
+        final long        _predMask;
+
         Step _next, _prev;
 
         boolean _hasBacktrack;
         Step    _backtrack;
     }
 
+    private static final class Predicate
+    {
+        // [@attr='value']
+
+        Predicate ( QName attrName, String value )
+        {
+            _attrName = attrName;
+            _value = value;
+            _nameTest = null;
+            _position = 0;
+        }
+
+        // [position], counted over the siblings matching nameTest
+
+        Predicate ( QName nameTest, int position )
+        {
+            _attrName = null;
+            _value = null;
+            _nameTest = nameTest;
+            _position = position;
+        }
+
+        public boolean equals ( Object o )
+        {
+            if (!(o instanceof Predicate))
+                return false;
+
+            Predicate p = (Predicate) o;
+
+            return
+                _attrName == null
+                    ? p._attrName == null && _position == p._position &&
+                          _nameTest.equals( p._nameTest )
+                    : _attrName.equals( p._attrName ) && _value.equals( p._value );
+        }
+
+        public int hashCode ( )
+        {
+            return
+                _attrName == null
+                    ? _nameTest.hashCode() + _position
+                    : _attrName.hashCode() + _value.hashCode();
+        }
+
+        final QName  _attrName;
+        final String _value;
+
+        final QName  _nameTest;
+        final int    _position;
+
+        int _id;
+    }
+
     private static final class Selector
     {
         Selector ( Step[] paths )
@@ -1101,10 +1444,23 @@ public class XPath
     //
     //
     
-    private XPath ( Selector selector, boolean sawDeepDot )
+    private XPath (
+        Selector selector, boolean sawDeepDot, Predicate[] predicates )
     {
         _selector = selector;
         _sawDeepDot = sawDeepDot;
+        _predicates = predicates;
+
+        ArrayList positionals = new ArrayList();
+
+        for ( int i = 0 ; i < predicates.length ; i++ )
+        {
+            if (predicates[ i ]._attrName == null)
+                positionals.add( predicates[ i ] );
+        }
+
+        _positionals =
+            (Predicate[]) positionals.toArray( new Predicate [ positionals.size() ] );
     }
 
     public boolean sawDeepDot ( )
@@ -1112,8 +1468,56 @@ public class XPath
         return _sawDeepDot;
     }
 
+    /**
+     * If this path does nothing but select the descendant elements with a
+     * given name (.//name), returns that name, otherwise null.
+     */
+    public QName getDescendantElementName ( )
+    {
+        if (_sawDeepDot || _selector._paths.length != 1)
+            return null;
+
+        Step s = _selector._paths[ 0 ];
+
+        // One deep element step, followed by the sentinal step
+
+        if (s._name == null || !s._deep || s._attr || s._text || s.isWild() ||
+                s._predicates != null || s._next == null || s._next._next != null)
+            return null;
+
+        return s._name;
+    }
+
+    /**
+     * True if this path has positional predicates, whose outcome for an
+     * element depends on its preceding siblings.
+     */
+    public boolean hasPositionalPredicates ( )
+    {
+        return _positionals.length > 0;
+    }
+
+    /**
+     * True if this path selects text (ends in text()).
+     */
+    public boolean selectsText ( )
+    {
+        for ( int i = 0 ; i < _selector._paths.length ; i++ )
+        {
+            for ( Step s = _selector._paths[ i ] ; s != null ; s = s._next )
+            {
+                if (s._text)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
     public static final String _NS_BOUNDARY = "$xmlbeans!ns_boundary";
     public static final String _DEFAULT_ELT_NS = "$xmlbeans!default_uri";
     private final Selector _selector;
     private final boolean  _sawDeepDot;
+    private final Predicate[] _predicates;
+    private final Predicate[] _positionals;
 }
\ No newline at end of file
@@ -102,7 +102,7 @@ public class XmlObjectList
         return h;
     }
     
-    private static String prettytrim(String s)
+    static String prettytrim(String s)
     {
         int end;
         for (end = s.length(); end > 0; end -= 1)
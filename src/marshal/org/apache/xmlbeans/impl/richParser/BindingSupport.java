@@ -0,0 +1,217 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.richParser;
+
+import org.apache.xmlbeans.GDateBuilder;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Calendar;
+
+/**
+ * Helpers called by the plain Java bindings which the schema compiler
+ * generates with XmlOptions.setGeneratePojoBinding().  These classes read
+ * themselves from an {@link XMLStreamReaderExt} and write themselves to an
+ * {@link XMLStreamWriter}, without building a store.
+ */
+public final class BindingSupport
+{
+    private static final String XSI_NS = XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+
+    private static XMLInputFactory _inputFactory;
+
+    private BindingSupport()
+    {
+    }
+
+    private static synchronized XMLInputFactory inputFactory()
+    {
+        if (_inputFactory == null)
+            _inputFactory = XMLInputFactory.newInstance();
+        return _inputFactory;
+    }
+
+    /** Returns a reader of the given stream. */
+    public static XMLStreamReaderExt newReader(InputStream in)
+        throws XMLStreamException
+    {
+        return new XMLStreamReaderExtImpl(inputFactory().createXMLStreamReader(in));
+    }
+
+    /** Returns a reader of the given characters. */
+    public static XMLStreamReaderExt newReader(Reader in)
+        throws XMLStreamException
+    {
+        return new XMLStreamReaderExtImpl(inputFactory().createXMLStreamReader(in));
+    }
+
+    /** Returns the given reader, wrapped if it is not already an XMLStreamReaderExt. */
+    public static XMLStreamReaderExt toExt(XMLStreamReader reader)
+    {
+        if (reader instanceof XMLStreamReaderExt)
+            return (XMLStreamReaderExt)reader;
+        return new XMLStreamReaderExtImpl(reader);
+    }
+
+    /**
+     * Moves the reader to the next start of an element, which must be one
+     * with the given name.
+     */
+    public static void toElement(XMLStreamReader reader, String uri, String local)
+        throws XMLStreamException
+    {
+        while (!reader.isStartElement())
+        {
+            if (!reader.hasNext())
+                throw new XMLStreamException("Expected element " + local +
+                    "@" + uri + " but the document has none", reader.getLocation());
+            reader.next();
+        }
+
+        if (!local.equals(reader.getLocalName()) || !uri.equals(namespaceOf(reader)))
+            throw new XMLStreamException("Expected element " + local + "@" + uri +
+                " but found " + reader.getName(), reader.getLocation());
+    }
+
+    /** Returns the namespace of the current element, "" if it has none. */
+    public static String namespaceOf(XMLStreamReader reader)
+    {
+        String uri = reader.getNamespaceURI();
+        return uri == null ? "" : uri;
+    }
+
+    /** Tells whether the current element has xsi:nil="true". */
+    public static boolean isNil(XMLStreamReader reader)
+    {
+        String nil = reader.getAttributeValue(XSI_NS, "nil");
+        if (nil == null)
+            return false;
+        nil = nil.trim();
+        return nil.equals("true") || nil.equals("1");
+    }
+
+    /**
+     * Moves the reader from the start of an element to its end, skipping
+     * everything in between.
+     */
+    public static void skipElement(XMLStreamReader reader)
+        throws XMLStreamException
+    {
+        int depth = 0;
+
+        for (int event = reader.next(); ; event = reader.next())
+        {
+            if (event == XMLStreamReader.START_ELEMENT)
+                depth++;
+            else if (event == XMLStreamReader.END_ELEMENT && depth-- == 0)
+                return;
+        }
+    }
+
+    /**
+     * Starts an element, declaring its namespace as the default one unless
+     * it is already the default namespace in scope, inScope.
+     */
+    public static void writeStartElement(XMLStreamWriter writer, String uri,
+        String local, String inScope)
+        throws XMLStreamException
+    {
+        writer.writeStartElement("", local, uri);
+        if (!uri.equals(inScope))
+            writer.writeDefaultNamespace(uri);
+    }
+
+    /** Writes an element with xsi:nil="true". */
+    public static void writeNilElement(XMLStreamWriter writer, String uri,
+        String local, String inScope)
+        throws XMLStreamException
+    {
+        writeStartElement(writer, uri, local, inScope);
+        writer.writeAttribute(prefixFor(writer, XSI_NS), XSI_NS, "nil", "true");
+        writer.writeEndElement();
+    }
+
+    /** Writes an attribute of the element just started. */
+    public static void writeAttribute(XMLStreamWriter writer, String uri,
+        String local, String value)
+        throws XMLStreamException
+    {
+        if (uri.length() == 0)
+            writer.writeAttribute(local, value);
+        else
+            writer.writeAttribute(prefixFor(writer, uri), uri, local, value);
+    }
+
+    /**
+     * Returns the lexical form of a QName value in the element just
+     * started, declaring a prefix for its namespace if needed.
+     */
+    public static String printQName(XMLStreamWriter writer, QName value,
+        String inScope)
+        throws XMLStreamException
+    {
+        String uri = value.getNamespaceURI();
+
+        if (uri.equals(inScope))
+            return value.getLocalPart();
+
+        if (uri.length() == 0)
+            throw new XMLStreamException("Cannot write " + value.getLocalPart() +
+                ", which has no namespace, where " + inScope + " is the default namespace");
+
+        return prefixFor(writer, uri) + ":" + value.getLocalPart();
+    }
+
+    /**
+     * Returns the lexical form of a calendar, as a value of the schema
+     * builtin type whose code is given.
+     */
+    public static String printCalendar(Calendar value, int builtinTypeCode)
+    {
+        GDateBuilder gDateBuilder = new GDateBuilder(value);
+        gDateBuilder.setBuiltinTypeCode(builtinTypeCode);
+        return gDateBuilder.toGDate().toString();
+    }
+
+    private static String prefixFor(XMLStreamWriter writer, String uri)
+        throws XMLStreamException
+    {
+        if (uri.equals(XMLConstants.XML_NS_URI))
+            return XMLConstants.XML_NS_PREFIX;
+
+        String prefix = writer.getPrefix(uri);
+        if (prefix != null && prefix.length() > 0)
+            return prefix;
+
+        for (int i = 1; ; i++)
+        {
+            prefix = "ns" + i;
+            String bound = writer.getNamespaceContext().getNamespaceURI(prefix);
+            if (bound == null || bound.length() == 0)
+                break;
+        }
+
+        writer.setPrefix(prefix, uri);
+        writer.writeNamespace(prefix, uri);
+        return prefix;
+    }
+}
@@ -14,8 +14,11 @@
  */
 package org.apache.xmlbeans.impl.store;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Reader;
 import java.lang.ref.SoftReference;
+import java.util.List;
 
 public final class CharUtil
 {
@@ -639,9 +642,124 @@ public final class CharUtil
         return false;
     }
 
+    /**
+     * Reads a reader to its end into the given list, as chunks of chars
+     * which are all full but the last.  Returns the number of chars read.
+     */
+    public static int readChunks ( Reader r, List chunks ) throws IOException
+    {
+        int cch = 0;
+
+        for ( ; ; )
+        {
+            char[] chunk = new char [ CHUNK_SIZE ];
+            int cchChunk = 0;
+
+            for ( int n ; cchChunk < CHUNK_SIZE ; cchChunk += n )
+            {
+                if ((n = r.read( chunk, cchChunk, CHUNK_SIZE - cchChunk )) < 0)
+                    break;
+            }
+
+            if (cchChunk < CHUNK_SIZE)
+            {
+                if (cchChunk > 0)
+                {
+                    char[] last = new char [ cchChunk ];
+                    System.arraycopy( chunk, 0, last, 0, cchChunk );
+                    chunks.add( last );
+                }
+
+                return cch + cchChunk;
+            }
+
+            chunks.add( chunk );
+            cch += cchChunk;
+        }
+    }
+
+    /**
+     * Joins the chunks read by readChunks, without copying them, into a
+     * tree which is only as deep as it needs to be.  The result starts at
+     * offset 0.
+     */
+    public static Object joinChunks ( List chunks, int cch )
+    {
+        return joinChunks( chunks, 0, chunks.size(), cch );
+    }
+
+    private static Object joinChunks ( List chunks, int first, int end, int cch )
+    {
+        if (end - first == 1)
+            return chunks.get( first );
+
+        int mid = (first + end) / 2;
+        int cchLeft = (mid - first) * CHUNK_SIZE;
+
+        return
+            new CharJoin(
+                joinChunks( chunks, first, mid, cchLeft ), 0, cchLeft,
+                joinChunks( chunks, mid, end, cch - cchLeft ), 0 );
+    }
+
+    /**
+     * A reader over some chars, which are copied out as they are read.
+     */
+    public static final class CharsReader extends Reader
+    {
+        public CharsReader ( Object src, int off, int cch )
+        {
+            assert isValid( src, off, cch );
+
+            _src = src;
+            _off = off;
+            _cch = cch;
+        }
+
+        public int read ( char[] cbuf, int off, int len )
+        {
+            if (len == 0)
+                return 0;
+
+            if (_cch == 0)
+                return -1;
+
+            int n = Math.min( len, _cch );
+
+            getChars( cbuf, off, _src, _off, n );
+
+            _off += n;
+            _cch -= n;
+
+            return n;
+        }
+
+        public long skip ( long n )
+        {
+            int cch = (int) Math.max( 0, Math.min( n, _cch ) );
+
+            _off += cch;
+            _cch -= cch;
+
+            return cch;
+        }
+
+        public void close ( )
+        {
+            _src = null;
+            _cch = 0;
+        }
+
+        private Object _src;
+        private int    _off;
+        private int    _cch;
+    }
+
     //
     // Private stuff
     //
+
+    private static final int CHUNK_SIZE = 8192;
     
     public static final class CharJoin
     {
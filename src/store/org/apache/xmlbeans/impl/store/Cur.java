@@ -1703,6 +1703,8 @@ final class Cur
 
         moveTo( x, p );
 
+        x.invalidateValidated();
+
         _locale._versionAll++;
     }
 
@@ -1799,6 +1801,8 @@ final class Cur
 
         _locale.notifyChange();
 
+        _xobj.invalidateValidated();
+
         //
         //if ( _xobj != null )
         {
@@ -1912,6 +1916,11 @@ final class Cur
         x._locale._versionAll++;
         x._locale._versionSansText++;
 
+        x.invalidateValidated();
+
+        if (to != null)
+            to._xobj.invalidateValidated();
+
         if (to != null && to._locale != x._locale)
         {
             to._locale.notifyChange();
@@ -1959,6 +1968,10 @@ final class Cur
 
             y.disconnectUser();
 
+            // Namespaces declared above it may not be the same any more
+
+            y.forgetValidated();
+
             if (to != null)
                 y._locale = to._locale;
         }
@@ -2042,6 +2055,7 @@ final class Cur
 
                 x.invalidateUser();
                 x.invalidateSpecialAttr( null );
+                x.invalidateValidated();
                 x._locale._versionAll++;
             }
             else if (x.hasTextEnsureOccupancy())
@@ -2153,6 +2167,8 @@ final class Cur
 
             y.disconnectUser();
 
+            y.forgetValidated();
+
             if (to != null)
                 y._locale = to._locale;
 
@@ -2186,6 +2202,11 @@ final class Cur
         x._locale._versionAll++;
         x._locale._versionSansText++;
 
+        x.invalidateValidated();
+
+        if (to != null)
+            to._xobj.invalidateValidated();
+
         if (to != null && valueMovedCch == 0)
         {
             to.getParent().invalidateUser();
@@ -2854,6 +2875,8 @@ final class Cur
             _stripComments   = options.hasOption( XmlOptions.LOAD_STRIP_COMMENTS   );
             _stripProcinsts  = options.hasOption( XmlOptions.LOAD_STRIP_PROCINSTS  );
 
+            _buildElementIndex = options.hasOption( XmlOptions.LOAD_ELEMENT_INDEX );
+
             _substituteNamespaces = (Map) options.get( XmlOptions.LOAD_SUBSTITUTE_NAMESPACES );
             _additionalNamespaces = (Map) options.get( XmlOptions.LOAD_ADDITIONAL_NAMESPACES );
 
@@ -3298,6 +3321,9 @@ final class Cur
                 if (_doctypeSystemId != null)
                     props.setDoctypeSystemId(_doctypeSystemId);
             }
+
+            if (_buildElementIndex)
+                ElementIndex.getIndex( _frontier, true );
             
             c.moveTo( _frontier );
 
@@ -3325,6 +3351,7 @@ final class Cur
         private boolean  _stripWhitespace;
         private boolean  _stripComments;
         private boolean  _stripProcinsts;
+        private boolean  _buildElementIndex;
         private Map      _substituteNamespaces;
         private Map      _additionalNamespaces;
         
@@ -488,8 +488,23 @@ final class DomImpl
 
             Locale l = _locale;
 
-            if (l.noSync())         { l.enter(); try { addElements( _root ); } finally { l.exit(); } }
-            else synchronized ( l ) { l.enter(); try { addElements( _root ); } finally { l.exit(); } }
+            if (l.noSync())         { l.enter(); try { findElements(); } finally { l.exit(); } }
+            else synchronized ( l ) { l.enter(); try { findElements(); } finally { l.exit(); } }
+        }
+
+        private void findElements ( )
+        {
+            // Use the element index of the document, if it has one
+
+            QName name = indexName();
+
+            ElementIndex index =
+                name == null ? null : ElementIndex.getIndex( (Xobj) _root, false );
+
+            if (index == null)
+                addElements( _root );
+            else
+                _elements.addAll( index.descendants( name, (Xobj) _root ) );
         }
 
         private void addElements ( Dom node )
@@ -508,6 +523,10 @@ final class DomImpl
 
         protected abstract boolean match ( Dom element );
 
+        // The name every matching element has, if there is one
+
+        protected QName indexName ( ) { return null; }
+
         private Dom       _root;
         private Locale    _locale;
         private long      _version;
@@ -549,6 +568,13 @@ final class DomImpl
             return _local.equals( "*" ) ? true : _node_getLocalName( element ).equals( _local );
            }
 
+        protected QName indexName ( )
+        {
+            return
+                _uri.equals( "*" ) || _local.equals( "*" )
+                    ? null : new QName( _uri, _local );
+        }
+
         private String _uri;
         private String _local;
     }
@@ -0,0 +1,196 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Maps element names to the elements of one document which have that name,
+ * in document order.  The index hangs off the root of the document and is
+ * rebuilt lazily the first time it is consulted after the structure of the
+ * document has changed, so it pays off for documents which are queried
+ * repeatedly for descendants by name but rarely modified.
+ */
+final class ElementIndex
+{
+    private ElementIndex ( Xobj root )
+    {
+        _root = root;
+        _version = -1;
+    }
+
+    /**
+     * Returns the up to date index for the document containing x.  If the
+     * document does not have one yet, one is created when create is true,
+     * otherwise null is returned.  Must be called with the locale entered.
+     */
+    static ElementIndex getIndex ( Xobj x, boolean create )
+    {
+        assert x.entered();
+
+        Xobj root = x;
+
+        while ( root._parent != null )
+            root = root._parent;
+
+        if (!root.isRoot())
+            return null;
+
+        ElementIndex index = root.getElementIndex();
+
+        if (index == null)
+        {
+            if (!create)
+                return null;
+
+            index = new ElementIndex( root );
+            root.setElementIndex( index );
+        }
+
+        index.ensureCurrent();
+
+        return index;
+    }
+
+    /**
+     * Returns the elements named name which are proper descendants of
+     * container, in document order.  The returned list must not be modified.
+     */
+    List descendants ( QName name, Xobj container )
+    {
+        Named named = (Named) _elements.get( name );
+
+        if (named == null)
+            return Collections.EMPTY_LIST;
+
+        if (container == _root)
+            return named._elements;
+
+        // The descendants of container are contiguous in document order,
+        // from the node after it to its last descendant, which is found by
+        // following the last children down
+
+        Xobj last = container;
+
+        while ( last._lastChild != null )
+            last = last._lastChild;
+
+        int from = named.search( position( container ) + 1 );
+        int to = named.search( position( last ) + 1 );
+
+        return named._elements.subList( from, to );
+    }
+
+    private int position ( Xobj x )
+    {
+        return ((Integer) _positions.get( x )).intValue();
+    }
+
+    /**
+     * Rebuilds the index if the structure of any document of the locale
+     * has changed since it was built.  The locale keeps one version for
+     * all of its documents, so an edit to another document also causes a
+     * rebuild.
+     */
+    private void ensureCurrent ( )
+    {
+        long version = _root._locale._versionSansText;
+
+        if (_elements != null && _version == version)
+            return;
+
+        HashMap elements = new HashMap();
+        IdentityHashMap positions = new IdentityHashMap();
+        int position = 0;
+
+        positions.put( _root, new Integer( position++ ) );
+
+        for ( Xobj x = _root._firstChild ; x != null ; x = x.walk( _root, true ) )
+        {
+            positions.put( x, new Integer( position ) );
+
+            if (x.isElem())
+            {
+                Named named = (Named) elements.get( x._name );
+
+                if (named == null)
+                    elements.put( x._name, named = new Named() );
+
+                named.add( x, position );
+            }
+
+            position++;
+        }
+
+        _elements = elements;
+        _positions = positions;
+        _version = version;
+    }
+
+    /**
+     * The elements of one name, in document order, and their positions.
+     */
+    private static final class Named
+    {
+        void add ( Xobj x, int position )
+        {
+            if (_elements.size() == _positions.length)
+            {
+                int[] positions = new int[ _positions.length * 2 ];
+                System.arraycopy( _positions, 0, positions, 0, _positions.length );
+                _positions = positions;
+            }
+
+            _positions[ _elements.size() ] = position;
+            _elements.add( x );
+        }
+
+        /**
+         * Returns the index of the first element at or after position.
+         */
+        int search ( int position )
+        {
+            int lo = 0;
+            int hi = _elements.size();
+
+            while ( lo < hi )
+            {
+                int mid = (lo + hi) >>> 1;
+
+                if (_positions[ mid ] < position)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+
+            return lo;
+        }
+
+        final ArrayList _elements = new ArrayList();
+        int[] _positions = new int[ 4 ];
+    }
+
+    private final Xobj _root;
+    private HashMap _elements;
+    private IdentityHashMap _positions;
+    private long _version;
+}
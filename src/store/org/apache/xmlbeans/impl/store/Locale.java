@@ -1883,6 +1883,84 @@ public final class Locale
             return _sb.toString();
         }
 
+        // Good until the buffer is used again
+        CharSequence getResultAsChars()
+        {
+            return _sb;
+        }
+
+        /**
+         * Scrubs a single chunk of chars and returns the result, good until
+         * the buffer is used again.  Collapsed chars with no white space
+         * but at their ends, the usual case of a number, are not copied.
+         */
+        CharSequence scrubChars(Object src, int off, int cch)
+        {
+            if (_wsr == Locale.WS_COLLAPSE && src instanceof char[])
+            {
+                char[] chars = (char[]) src;
+                int start = off;
+                int end = off + cch;
+
+                while (start < end && CharUtil.isWhiteSpace(chars[start]))
+                    start++;
+
+                while (end > start && CharUtil.isWhiteSpace(chars[end - 1]))
+                    end--;
+
+                int i = start;
+
+                while (i < end && !CharUtil.isWhiteSpace(chars[i]))
+                    i++;
+
+                if (i == end)
+                {
+                    _view._chars = chars;
+                    _view._off = start;
+                    _view._cch = end - start;
+
+                    return _view;
+                }
+            }
+
+            scrub(src, off, cch);
+
+            return _sb;
+        }
+
+        private static final class CharsView implements CharSequence
+        {
+            public int length()
+            {
+                return _cch;
+            }
+
+            public char charAt(int i)
+            {
+                if (i < 0 || i >= _cch)
+                    throw new IndexOutOfBoundsException();
+
+                return _chars[_off + i];
+            }
+
+            public CharSequence subSequence(int start, int end)
+            {
+                if (start < 0 || end > _cch || start > end)
+                    throw new IndexOutOfBoundsException();
+
+                return new String(_chars, _off + start, end - start);
+            }
+
+            public String toString()
+            {
+                return new String(_chars, _off, _cch);
+            }
+
+            char[] _chars;
+            int _off;
+            int _cch;
+        }
+
         private static final int START_STATE = 0;
         private static final int SPACE_SEEN_STATE = 1;
         private static final int NOSPACE_STATE = 2;
@@ -1893,6 +1971,7 @@ public final class Locale
 
         private char[] _srcBuf = new char[1024];
         private StringBuffer _sb;
+        private final CharsView _view = new CharsView();
     }
 
     private static ThreadLocal tl_scrubBuffer =
@@ -3741,6 +3820,8 @@ public final class Locale
     long _versionAll;
     long _versionSansText;
 
+    Map _validated;
+
     Locations _locations;
 
     private CharUtil _charUtil;
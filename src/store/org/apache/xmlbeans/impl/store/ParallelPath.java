@@ -0,0 +1,372 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.store;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import javax.xml.namespace.QName;
+
+import org.apache.xmlbeans.impl.common.XPath;
+import org.apache.xmlbeans.impl.common.XPath.ExecutionContext;
+
+/**
+ * Evaluates a compiled builtin path over large documents using several
+ * threads.  Starting at the context node, single element children are
+ * followed down to the first element with several element children (the
+ * records of a typical large document).  Those children are split into
+ * contiguous ranges which are evaluated independently, and the selections
+ * of the ranges are concatenated, which keeps them in document order.
+ * <p>
+ * The other threads never enter the locale nor create cursors; they only
+ * read the tree of Xobjs while the calling thread, which has entered the
+ * locale, waits for them.  Anything which would require modifying the tree
+ * to read it, such as the value of a vacant node, makes the whole
+ * evaluation fall back to the single threaded engine.
+ */
+final class ParallelPath
+{
+    private ParallelPath ( ) { }
+
+    /**
+     * Returns the Xobjs selected by xpath from the container c is at, in
+     * document order, or null if the path or document does not lend itself
+     * to parallel evaluation and the caller should use the regular engine.
+     */
+    static List select ( XPath xpath, Cur c, int parallelism )
+    {
+        assert c.isContainer();
+
+        // Positions of the split children depend on the preceding ranges,
+        // and text selections are not a plain list of Xobjs.
+
+        if (parallelism < 2 || xpath.hasPositionalPredicates() || xpath.selectsText())
+            return null;
+
+        long version = c._locale.version();
+
+        Task first = new Task( xpath );
+
+        List prefix = new ArrayList();
+
+        Xobj parent = c._xobj;
+
+        if (!first.start( parent ))
+            return null;
+
+        List children;
+
+        for ( ; ; )
+        {
+            children = childElements( parent );
+
+            if (children == null)
+                return null;
+
+            if (children.size() != 1)
+                break;
+
+            parent = (Xobj) children.get( 0 );
+
+            if (!first.enter( parent ))
+                return null;
+
+            prefix.add( parent );
+        }
+
+        int n = Math.min( parallelism, children.size() );
+
+        if (n < 2)
+            return null;
+
+        Task[] tasks = new Task [ n ];
+        Future[] futures = new Future [ n ];
+
+        tasks[ 0 ] = first;
+
+        for ( int i = 0 ; i < n ; i++ )
+        {
+            if (i > 0)
+                tasks[ i ] = new Task( xpath, prefix );
+
+            tasks[ i ].setRange(
+                children, i * children.size() / n, (i + 1) * children.size() / n );
+        }
+
+        ExecutorService executor = executor();
+
+        for ( int i = 1 ; i < n ; i++ )
+            futures[ i ] = executor.submit( tasks[ i ] );
+
+        List result = new ArrayList();
+
+        try
+        {
+            boolean complete = first.call() != null;
+
+            if (complete)
+                result.addAll( first._selected );
+
+            for ( int i = 1 ; i < n ; i++ )
+            {
+                if (futures[ i ].get() == null)
+                    complete = false;
+                else if (complete)
+                    result.addAll( tasks[ i ]._selected );
+            }
+
+            if (!complete)
+                return null;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RuntimeException( e );
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+
+            if (cause instanceof Error)
+                throw (Error) cause;
+
+            throw new RuntimeException( cause );
+        }
+        finally
+        {
+            for ( int i = 1 ; i < n ; i++ )
+                futures[ i ].cancel( true );
+        }
+
+        if (version != c._locale.version())
+            throw new ConcurrentModificationException( "Document changed during select" );
+
+        return result;
+    }
+
+    // The element children of x, or null if x has to be made occupied first
+
+    private static List childElements ( Xobj x )
+    {
+        if (x.isVacant())
+            return null;
+
+        List children = new ArrayList();
+
+        for ( Xobj y = x._firstChild ; y != null ; y = y._nextSibling )
+        {
+            if (y.isElem())
+                children.add( y );
+        }
+
+        return children;
+    }
+
+    private static synchronized ExecutorService executor ( )
+    {
+        if (_executor == null)
+        {
+            _executor =
+                Executors.newCachedThreadPool(
+                    new ThreadFactory()
+                    {
+                        public Thread newThread ( Runnable r )
+                        {
+                            Thread t = new Thread( r, "xmlbeans-parallel-path" );
+                            t.setDaemon( true );
+                            return t;
+                        }
+                    } );
+        }
+
+        return _executor;
+    }
+
+    private static ExecutorService _executor;
+
+    /**
+     * Evaluates the path over a range of siblings, after replaying the
+     * elements on the way from the context node down to their parent.  A
+     * null result means the range could not be evaluated without
+     * modifying the tree.
+     */
+    private static final class Task extends ExecutionContext implements Callable
+    {
+        Task ( XPath xpath )
+        {
+            init( xpath );
+            _selected = new ArrayList();
+        }
+
+        Task ( XPath xpath, List prefix )
+        {
+            this( xpath );
+
+            // Replaying cannot fail, the first task has already done it
+
+            start();
+
+            for ( int i = 0 ; i < prefix.size() ; i++ )
+            {
+                _current = (Xobj) prefix.get( i );
+                element( _current._name );
+            }
+        }
+
+        // Paths which select the context node or the elements on the way
+        // down to the split children are left to the regular engine.
+
+        boolean start ( Xobj context )
+        {
+            int ret = start();
+
+            return !context.isVacant() && (ret & (HIT | ATTRS)) == 0 && (ret & DESCEND) != 0;
+        }
+
+        boolean enter ( Xobj x )
+        {
+            if (x.isVacant())
+                return false;
+
+            _current = x;
+
+            int ret = element( x._name );
+
+            return !_vacant && (ret & (HIT | ATTRS)) == 0 && (ret & DESCEND) != 0;
+        }
+
+        void setRange ( List siblings, int from, int to )
+        {
+            _siblings = siblings;
+            _from = from;
+            _to = to;
+        }
+
+        public Object call ( )
+        {
+            for ( int i = _from ; i < _to && !_vacant ; i++ )
+                visit( (Xobj) _siblings.get( i ) );
+
+            return _vacant ? null : _selected;
+        }
+
+        // Walks the subtree of top in document order without recursing,
+        // mirroring what the regular engine does with a cursor.
+
+        private void visit ( Xobj top )
+        {
+            Xobj x = top;
+
+            for ( ; ; )
+            {
+                if (x.isVacant())
+                {
+                    _vacant = true;
+                    return;
+                }
+
+                _current = x;
+
+                int ret = element( x._name );
+
+                if ((ret & HIT) != 0)
+                    _selected.add( x );
+
+                if ((ret & ATTRS) != 0)
+                {
+                    for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+                    {
+                        if (attr( a._name ))
+                            _selected.add( a );
+                    }
+                }
+
+                Xobj child = (ret & DESCEND) != 0 ? nextElement( x._firstChild ) : null;
+
+                if (child != null)
+                {
+                    x = child;
+                    continue;
+                }
+
+                for ( ; ; )
+                {
+                    end();
+
+                    if (x == top)
+                        return;
+
+                    Xobj next = nextElement( x._nextSibling );
+
+                    if (next != null)
+                    {
+                        x = next;
+                        break;
+                    }
+
+                    x = x._parent;
+                }
+            }
+        }
+
+        private static Xobj nextElement ( Xobj x )
+        {
+            while ( x != null && !x.isElem() )
+                x = x._nextSibling;
+
+            return x;
+        }
+
+        protected String getAttributeValue ( QName name )
+        {
+            for ( Xobj a = _current.firstAttr() ; a != null ; a = a.nextAttr() )
+            {
+                if (a._name.equals( name ))
+                {
+                    if (a.isVacant())
+                    {
+                        _vacant = true;
+                        return null;
+                    }
+
+                    return CharUtil.getString( a._srcValue, a._offValue, a._cchValue );
+                }
+            }
+
+            return null;
+        }
+
+        private final List _selected;
+
+        private List _siblings;
+        private int  _from;
+        private int  _to;
+
+        private Xobj    _current;
+        private boolean _vacant;
+    }
+}
@@ -31,6 +31,8 @@ import org.apache.xmlbeans.impl.common.XPath;
 import org.apache.xmlbeans.impl.common.XPath.XPathCompileException;
 import org.apache.xmlbeans.impl.common.XPath.ExecutionContext;
 
+import javax.xml.namespace.QName;
+
 import org.apache.xmlbeans.*;
 import org.w3c.dom.Node;
 
@@ -304,7 +306,7 @@ public abstract class Path
             try
             {
                 return new XbeanPath(pathExpr, currentVar,
-                                XPath.compileXPath(pathExpr, currentVar, namespaces));
+                                XPath.compileXPath(pathExpr, currentVar, namespaces, true));
             }
             catch (XPathCompileException e) {
                 return null;
@@ -336,6 +338,33 @@ public abstract class Path
                 int force = USE_DELEGATE | USE_XQRL | USE_XDK;
                 return getCompiledPath(_pathKey, force, _currentVar, delIntfName).execute(c, options);
             }
+
+            // Plain descendant lookups (.//name) can be answered from the
+            // element index of the document, if it has one or one is wanted.
+
+            QName name = _compiledPath.getDescendantElementName();
+
+            if (name != null)
+            {
+                ElementIndex index = ElementIndex.getIndex(
+                    c._xobj, options.hasOption(XmlOptions.XPATH_USE_ELEMENT_INDEX));
+
+                if (index != null)
+                    return new XobjListPathEngine(index.descendants(name, c._xobj), c);
+            }
+
+            // Opt in evaluation of the subtrees of large documents in parallel
+
+            if (options.hasOption(XmlOptions.XPATH_PARALLELISM))
+            {
+                int parallelism = ((Integer) options.get(XmlOptions.XPATH_PARALLELISM)).intValue();
+
+                List selected = ParallelPath.select(_compiledPath, c, parallelism);
+
+                if (selected != null)
+                    return new XobjListPathEngine(selected, c);
+            }
+
             return new XbeanPathEngine(_compiledPath, c);
         }
 
@@ -470,6 +499,47 @@ public abstract class Path
         }
     }
 
+    // Selects nodes which have already been found, all at once
+
+    private static final class XobjListPathEngine
+        implements PathEngine
+    {
+        XobjListPathEngine(List xobjs, Cur c)
+        {
+            _xobjs = xobjs;
+            _version = c._locale.version();
+        }
+
+        public boolean next(Cur c)
+        {
+            if (_xobjs == null)
+                return false;
+
+            if (_version != c._locale.version())
+                throw new ConcurrentModificationException("Document changed during select");
+
+            Cur pos = c.tempCur();
+
+            for (int i = 0; i < _xobjs.size(); i++) {
+                pos.moveTo((Xobj) _xobjs.get(i));
+                c.addToSelection(pos);
+            }
+
+            pos.release();
+            release();
+
+            return true;
+        }
+
+        public void release()
+        {
+            _xobjs = null;
+        }
+
+        private List _xobjs;
+        private final long _version;
+    }
+
     private static final class XbeanPathEngine
         extends ExecutionContext
         implements PathEngine
@@ -492,10 +562,24 @@ public abstract class Path
 
             doAttrs(ret, c);
 
-            if ((ret & DESCEND) == 0 || !Locale.toFirstChildElement(_cur))
+            if ((ret & DESCEND) == 0 || !toFirstChild(ret))
                 release();
         }
 
+        // When text children are selected, step into the content so that
+        // advance() sees the text in document order; otherwise only child
+        // elements are of interest.
+
+        private boolean toFirstChild(int ret)
+        {
+            if ((ret & TEXT) == 0)
+                return Locale.toFirstChildElement(_cur);
+
+            _cur.next();
+
+            return true;
+        }
+
         private void advance(Cur c)
         {
             assert _cur != null;
@@ -518,7 +602,7 @@ public abstract class Path
 
                 doAttrs(ret, c);
 
-                if ((ret & DESCEND) == 0 || !Locale.toFirstChildElement(_cur))
+                if ((ret & DESCEND) == 0 || !toFirstChild(ret))
                 {
                     end();
                     _cur.skip();
@@ -526,14 +610,32 @@ public abstract class Path
             }
             else
             {
+                boolean text = text();
+
                 do
                 {
-                    _cur.next();
+                    // Skip over comments and procinsts rather than stepping
+                    // into their values
+
+                    if (_cur.isNode())
+                        _cur.skip();
+                    else
+                    {
+                        if (text)
+                            c.addToSelection(_cur);
+
+                        _cur.next();
+                    }
                 }
                 while(!_cur.isContainerOrFinish());
             }
         }
 
+        protected String getAttributeValue(QName name)
+        {
+            return _cur.getAttrValue(name);
+        }
+
         private void doAttrs(int ret, Cur c)
         {
             assert _cur.isContainer();
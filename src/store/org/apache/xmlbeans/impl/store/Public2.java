@@ -330,6 +330,7 @@ public final class Public2
         public SchemaType get_element_type(QName eltName, QName xsiType) { throw new RuntimeException( "Not impl" ); }
         public SchemaType get_attribute_type(QName attrName) { throw new RuntimeException( "Not impl" ); }
         public int get_elementflags(QName eltName) { throw new RuntimeException( "Not impl" ); }
+        public int get_element_ordinal(QName eltName) { return -1; }
         public int get_attributeflags(QName attrName) { throw new RuntimeException( "Not impl" ); }
         public SchemaField get_attribute_field(QName attrName) { throw new RuntimeException( "Not impl" ); }
         public boolean is_child_element_order_sensitive() { throw new RuntimeException( "Not impl" ); }
@@ -19,8 +19,12 @@ import org.apache.xmlbeans.impl.common.ValidatorListener;
 import javax.xml.stream.Location;
 import org.apache.xmlbeans.XmlCursor;
 import javax.xml.namespace.QName;
+import java.util.Map;
 
-final class Validate implements ValidatorListener.Event
+final class Validate
+    implements
+        ValidatorListener.SplittableEvent, ValidatorListener.RememberingEvent,
+        ValidatorListener.StoppableEvent
 {
     Validate ( Cur c, ValidatorListener sink )
     {
@@ -71,13 +75,21 @@ final class Validate implements ValidatorListener.Event
             
             doAttrs();
 
-            for ( _cur.next() ; ! _cur.isAtEndOfLastPush() ; _cur.next() )
+            for ( _cur.next() ; ! _cur.isAtEndOfLastPush() && ! _stop ; _cur.next() )
             {
                 switch ( _cur.kind() )
                 {
                 case Cur.ELEM :
                     emitEvent( ValidatorListener.BEGIN );
-                    doAttrs();
+
+                    if (_skip)
+                    {
+                        _skip = false;
+                        _cur.toEnd();
+                    }
+                    else
+                        doAttrs();
+
                     break;
                 
                 case - Cur.ELEM :
@@ -262,6 +274,53 @@ final class Validate implements ValidatorListener.Event
         return _cur.isAtLastPush() ? null : _cur.getName();
     }
 
+    public ValidatorListener.Subtree split ( )
+    {
+        assert _cur.isElem() && !_cur.isAtLastPush();
+
+        Xobj x = _cur._xobj;
+
+        // The namespaces declared above the subtree are looked up here, as
+        // reading them from other threads could race with the caching of
+        // their values
+
+        if (x._parent != _splitParent)
+        {
+            _splitParent = x._parent;
+            _splitNamespaces = ValidateSubtree.inScopeNamespaces( _splitParent );
+        }
+
+        _skip = true;
+
+        return new ValidateSubtree( x, _splitNamespaces );
+    }
+
+    public void remember ( Object o )
+    {
+        assert _cur.isEnd();
+
+        _cur._xobj.setValidated( o );
+    }
+
+    public Object getRemembered ( )
+    {
+        assert _cur.isElem();
+
+        return _cur._xobj.getValidated();
+    }
+
+    public void skip ( )
+    {
+        assert _cur.isElem() && !_cur.isAtLastPush();
+
+        _skip = true;
+    }
+
+    public void stop ( )
+    {
+        _stop = true;
+    }
+
     //
     //
     //
@@ -270,6 +329,11 @@ final class Validate implements ValidatorListener.Event
 
     private Cur _cur;
 
+    private boolean _skip;
+    private boolean _stop;
+    private Xobj    _splitParent;
+    private Map     _splitNamespaces;
+
     // Two ways to accumulate text.  First, I can have a Cur positioned at the text.  I do this
     // instead of getting the there there because white space rules are applied at a later point.
     // This way, when I turn the text into a String, I can cache the string.  If multiple chunks
@@ -0,0 +1,359 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.store;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.impl.common.ValidatorListener;
+
+/**
+ * An element split off by Validate.  Concurrently, its events are sent by
+ * walking the Xobjs of the subtree the way ParallelPath does: the locale is
+ * not entered and no cursor is created, the walk stops at the first vacant
+ * node, and values are read without being cached.  Namespace declarations
+ * above the subtree come from a map made by the thread walking the tree.
+ */
+final class ValidateSubtree implements ValidatorListener.Subtree
+{
+    ValidateSubtree ( Xobj top, Map namespaces )
+    {
+        assert top.isElem();
+
+        _top = top;
+        _namespaces = namespaces;
+    }
+
+    public boolean validateConcurrently ( ValidatorListener sink )
+    {
+        return new Walk( _top, _namespaces, sink ).process();
+    }
+
+    public void validate ( ValidatorListener sink )
+    {
+        Cur c = _top.tempCur();
+        Validate validate = new Validate( c, sink );
+        c.release();
+    }
+
+    public void remember ( Object o )
+    {
+        _top.setValidated( o );
+    }
+
+    /**
+     * Returns the prefix to namespace mappings in scope at x, which must be
+     * called from the thread walking the tree.
+     */
+    static Map inScopeNamespaces ( Xobj x )
+    {
+        Map namespaces = new HashMap();
+
+        for ( ; x != null ; x = x._parent )
+        {
+            for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+            {
+                if (a.isXmlns() && !namespaces.containsKey( a.getXmlnsPrefix() ))
+                    namespaces.put( a.getXmlnsPrefix(), a.getXmlnsUri() );
+            }
+        }
+
+        return namespaces;
+    }
+
+    private final Xobj _top;
+    private final Map  _namespaces;
+
+    private static final class Walk implements ValidatorListener.Event
+    {
+        Walk ( Xobj top, Map namespaces, ValidatorListener sink )
+        {
+            _top = top;
+            _namespaces = namespaces;
+            _sink = sink;
+        }
+
+        // Mirrors Validate.process, without recursing
+
+        boolean process ( )
+        {
+            Xobj x = _top;
+
+            if (!begin( x ))
+                return false;
+
+            Xobj child = firstContent( x );
+
+            for ( ; ; )
+            {
+                if (child == null)
+                {
+                    _current = x;
+                    _atTopEnd = x == _top;
+                    emitEvent( ValidatorListener.END );
+
+                    if (x == _top)
+                        return true;
+
+                    addText( x._srcAfter, x._offAfter, x._cchAfter );
+
+                    child = x._nextSibling;
+                    x = x._parent;
+                }
+                else if (child.isElem())
+                {
+                    if (!begin( child ))
+                        return false;
+
+                    x = child;
+                    child = firstContent( x );
+                }
+                else
+                {
+                    // Comments and procinsts only have text after them
+
+                    addText( child._srcAfter, child._offAfter, child._cchAfter );
+
+                    child = child._nextSibling;
+                }
+            }
+        }
+
+        private boolean begin ( Xobj x )
+        {
+            if (x.isVacant())
+                return false;
+
+            for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+            {
+                if (a.isVacant())
+                    return false;
+            }
+
+            _current = x;
+            emitEvent( ValidatorListener.BEGIN );
+
+            for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+            {
+                if (a.isNormalAttr() && !a._name.getNamespaceURI().equals( Locale._xsi ))
+                {
+                    _attr = a;
+                    _sink.nextEvent( ValidatorListener.ATTR, this );
+                    _attr = null;
+                }
+            }
+
+            _sink.nextEvent( ValidatorListener.ENDATTRS, this );
+
+            // The text before the first child, which is after the attrs if
+            // there are some
+
+            addText( x._srcValue, x._offValue, x._cchValue );
+
+            for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+                addText( a._srcAfter, a._offAfter, a._cchAfter );
+
+            return true;
+        }
+
+        private static Xobj firstContent ( Xobj x )
+        {
+            Xobj child = x._firstChild;
+
+            while ( child != null && child.isAttr() )
+                child = child._nextSibling;
+
+            return child;
+        }
+
+        private void addText ( Object src, int off, int cch )
+        {
+            if (cch == 0)
+                return;
+
+            if (_hasText)
+            {
+                if (_oneChunk)
+                {
+                    if (_textSb == null)
+                        _textSb = new StringBuffer();
+                    else
+                        _textSb.delete( 0, _textSb.length() );
+
+                    CharUtil.getString( _textSb, _textSrc, _textOff, _textCch );
+
+                    _oneChunk = false;
+                }
+
+                CharUtil.getString( _textSb, src, off, cch );
+            }
+            else
+            {
+                _hasText = true;
+                _oneChunk = true;
+                _textSrc = src;
+                _textOff = off;
+                _textCch = cch;
+            }
+        }
+
+        private void emitEvent ( int kind )
+        {
+            if (_hasText)
+            {
+                _sink.nextEvent( ValidatorListener.TEXT, this );
+                _hasText = false;
+            }
+
+            _sink.nextEvent( kind, this );
+        }
+
+        private static String attrValue ( Xobj a )
+        {
+            return CharUtil.getString( a._srcValue, a._offValue, a._cchValue );
+        }
+
+        private String attrValue ( QName name )
+        {
+            for ( Xobj a = _current.firstAttr() ; a != null ; a = a.nextAttr() )
+            {
+                if (a._name.equals( name ))
+                    return attrValue( a );
+            }
+
+            return null;
+        }
+
+        public String getText ( )
+        {
+            if (_attr != null)
+                return attrValue( _attr );
+
+            assert _hasText;
+
+            return
+                _oneChunk
+                    ? CharUtil.getString( _textSrc, _textOff, _textCch )
+                    : _textSb.toString();
+        }
+
+        public String getText ( int wsr )
+        {
+            return Locale.applyWhiteSpaceRule( getText(), wsr );
+        }
+
+        public boolean textIsWhitespace ( )
+        {
+            String s = getText();
+
+            for ( int i = 0 ; i < s.length() ; i++ )
+            {
+                if (!CharUtil.isWhiteSpace( s.charAt( i ) ))
+                    return false;
+            }
+
+            return true;
+        }
+
+        public String getNamespaceForPrefix ( String prefix )
+        {
+            if (prefix == null)
+                prefix = "";
+
+            if (prefix.equals( "xml" ))
+                return Locale._xml1998Uri;
+
+            if (prefix.equals( "xmlns" ))
+                return Locale._xmlnsUri;
+
+            for ( Xobj x = _current ; ; x = x._parent )
+            {
+                for ( Xobj a = x.firstAttr() ; a != null ; a = a.nextAttr() )
+                {
+                    if (a.isXmlns() && a.getXmlnsPrefix().equals( prefix ))
+                        return attrValue( a );
+                }
+
+                if (x == _top)
+                    break;
+            }
+
+            String uri = (String) _namespaces.get( prefix );
+
+            return uri == null && prefix.length() == 0 ? "" : uri;
+        }
+
+        public XmlCursor getLocationAsCursor ( )
+        {
+            return null;
+        }
+
+        public Location getLocation ( )
+        {
+            return null;
+        }
+
+        public String getXsiType ( )
+        {
+            return attrValue( Locale._xsiType );
+        }
+
+        public String getXsiNil ( )
+        {
+            return attrValue( Locale._xsiNil );
+        }
+
+        public String getXsiLoc ( )
+        {
+            return attrValue( Locale._xsiLoc );
+        }
+
+        public String getXsiNoLoc ( )
+        {
+            return attrValue( Locale._xsiNoLoc );
+        }
+
+        public QName getName ( )
+        {
+            if (_attr != null)
+                return _attr._name;
+
+            // Like a cursor at the top, which is only so at its BEGIN
+
+            return _current == _top && !_atTopEnd ? null : _current._name;
+        }
+
+        private final Xobj              _top;
+        private final Map               _namespaces;
+        private final ValidatorListener _sink;
+
+        private Xobj _current;
+        private Xobj _attr;
+
+        private boolean _atTopEnd;
+
+        private boolean      _hasText;
+        private boolean      _oneChunk;
+        private Object       _textSrc;
+        private int          _textOff;
+        private int          _textCch;
+        private StringBuffer _textSb;
+    }
+}
@@ -42,13 +42,17 @@ import org.w3c.dom.TypeInfo;
 
 import javax.xml.transform.Source;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
 
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
+import java.util.WeakHashMap;
 
 import org.apache.xmlbeans.impl.soap.Detail;
 import org.apache.xmlbeans.impl.soap.DetailEntry;
@@ -313,6 +317,12 @@ abstract class Xobj implements TypeStore
 
     abstract Xobj newNode ( Locale l );
 
+    // Only document and fragment roots carry an element index
+
+    ElementIndex getElementIndex ( ) { return null; }
+
+    void setElementIndex ( ElementIndex index ) { }
+
     final int cchLeft ( int p )
     {
         if (isRoot() && p == 0)
@@ -580,7 +590,12 @@ abstract class Xobj implements TypeStore
 
             QName oldName = _name;
 
+            invalidateValidated();
+
             _name = newName;
+            _ordinal = 0;
+
+            invalidateValidated();
             if (this instanceof Xobj.NamedNodeXobj)
             {
                 NamedNodeXobj me = (NamedNodeXobj)this;
@@ -769,6 +784,7 @@ abstract class Xobj implements TypeStore
             _parent = null;
             _prevSibling = null;
             _nextSibling = null;
+            _ordinal = 0;
         }
 
         return this;
@@ -844,7 +860,10 @@ abstract class Xobj implements TypeStore
         last._nextSibling = null;
 
         for ( ; first != null ; first = first._nextSibling )
+        {
             first._parent = null;
+            first._ordinal = 0;
+        }
     }
 
     final void insertXobjs ( Xobj first, Xobj last )
@@ -1251,6 +1270,19 @@ abstract class Xobj implements TypeStore
         return s;
     }
 
+    // Like getValueAsString, but the text of a single chunk is not
+    // cached, and the chars are left in the scrub buffer of the thread
+
+    CharSequence getValueAsChars ( int wsr )
+    {
+        if (hasChildren())
+            return getValueAsString( wsr );
+
+        Object src = getFirstChars();
+
+        return Locale.getScrubBuffer( wsr ).scrubChars( src, _locale._offSrc, _locale._cchSrc );
+    }
+
     String getValueAsString ( )
     {
         return getValueAsString( Locale.WS_PRESERVE );
@@ -1390,6 +1422,7 @@ abstract class Xobj implements TypeStore
     static final int VACANT             = 0x100;
     static final int STABLE_USER        = 0x200;
     static final int INHIBIT_DISCONNECT = 0x400;
+    static final int VALIDATED          = 0x800;
 
     final boolean isVacant          ( ) { return bitIsSet   ( VACANT ); }
     final boolean isOccupied        ( ) { return bitIsClear ( VACANT ); }
@@ -1397,6 +1430,53 @@ abstract class Xobj implements TypeStore
 
     final boolean isStableUser    ( ) { return bitIsSet( STABLE_USER ); }
 
+    //
+    // What a validator remembers about the elements it found valid is kept
+    // in a map on the locale, and the VALIDATED bit is set on them.  A
+    // change to a node forgets about it and the containers it is in.
+    //
+
+    final Object getValidated ( )
+    {
+        return bitIsSet( VALIDATED ) ? _locale._validated.get( this ) : null;
+    }
+
+    final void setValidated ( Object validated )
+    {
+        if (_locale._validated == null)
+            _locale._validated = new WeakHashMap();
+
+        setBit( VALIDATED );
+        _locale._validated.put( this, validated );
+    }
+
+    final void invalidateValidated ( )
+    {
+        if (_locale._validated == null)
+            return;
+
+        for ( Xobj x = this ; x != null ; x = x._parent )
+            x.forgetValidated();
+    }
+
+    final void forgetValidated ( )
+    {
+        if (_locale._validated == null)
+            return;
+
+        if (bitIsSet( VALIDATED ))
+        {
+            clearBit( VALIDATED );
+            _locale._validated.remove( this );
+        }
+        else if (isXmlns())
+        {
+            // The values of QNames anywhere below may have changed
+
+            _locale._validated.clear();
+        }
+    }
+
     void invalidateNil ( )
     {
         if (_user != null)
@@ -1429,6 +1509,11 @@ abstract class Xobj implements TypeStore
             ensureOccupancy();
             _user.disconnect_store();
             _user = null;
+
+            // The next user may be of another type, which numbers the
+            // children otherwise
+            for ( Xobj x = _firstChild ; x != null ; x = x._nextSibling )
+                x._ordinal = 0;
         }
     }
 
@@ -1777,6 +1862,8 @@ abstract class Xobj implements TypeStore
         {
             assert isValid();
 
+            invalidateValidated();
+
             if (isOccupied())
             {
                 if (hasTextNoEnsureOccupancy() || hasChildren())
@@ -1819,6 +1906,43 @@ abstract class Xobj implements TypeStore
         }
     }
 
+    public CharSequence fetch_chars ( int wsr )
+    {
+        _locale.enter();
+
+        try
+        {
+            assert isValid() && isOccupied();
+
+            return getValueAsChars( wsr );
+        }
+        finally
+        {
+            _locale.exit();
+        }
+    }
+
+    public Reader fetch_reader ( )
+    {
+        _locale.enter();
+
+        try
+        {
+            assert isValid() && isOccupied();
+
+            if (hasChildren())
+                return new StringReader( getValueAsString() );
+
+            Object src = getFirstChars();
+
+            return new CharUtil.CharsReader( src, _locale._offSrc, _locale._cchSrc );
+        }
+        finally
+        {
+            _locale.exit();
+        }
+    }
+
     public XmlCursor new_cursor ( )
     {
         _locale.enter();
@@ -1955,6 +2079,42 @@ abstract class Xobj implements TypeStore
         }
     }
 
+    public void store_text ( Reader text ) throws IOException
+    {
+        // The reader is read before the store is entered, the chunks are
+        // then put in the store as they are
+
+        List chunks = new ArrayList();
+        int cch = CharUtil.readChunks( text, chunks );
+
+        _locale.enter();
+
+        TypeStoreUser user = _user;
+        _user = null;
+
+        try
+        {
+            Cur c = tempCur();
+
+            c.moveNodeContents( null, false );
+
+            if (cch > 0)
+            {
+                c.next();
+                c.insertChars( CharUtil.joinChunks( chunks, cch ), 0, cch );
+            }
+
+            c.release();
+        }
+        finally
+        {
+            assert _user == null;
+            _user = user;
+
+            _locale.exit();
+        }
+    }
+
     public int compute_flags ( )
     {
         if (isRoot())
@@ -2073,10 +2233,37 @@ abstract class Xobj implements TypeStore
         return _locale.count( this, null, names );
     }
 
+    // Where the user of this container numbers the properties of its
+    // type, the ordinal of each child element is asked for once and
+    // kept on the child, so that the children are found by comparing
+    // ordinals rather than names.  An ordinal of -1 means the name is
+    // not numbered, and it is compared itself.
+
+    private int elementOrdinal ( QName name )
+    {
+        return _user == null ? -1 : _user.get_element_ordinal( name );
+    }
+
+    private boolean isElem ( Xobj x, QName name, int ordinal )
+    {
+        if (!x.isElem())
+            return false;
+
+        if (ordinal < 0)
+            return x._name.equals( name );
+
+        if (x._ordinal == 0)
+            x._ordinal = _user.get_element_ordinal( x._name );
+
+        return x._ordinal == ordinal;
+    }
+
     public TypeStoreUser find_element_user ( QName name, int i )
     {
+        int ordinal = elementOrdinal( name );
+
         for ( Xobj x = _firstChild ; x != null ; x = x._nextSibling )
-            if (x.isElem() && x._name.equals( name ) && --i < 0)
+            if (isElem( x, name, ordinal ) && --i < 0)
                 return x.getUser();
 
         return null;
@@ -2091,10 +2278,23 @@ abstract class Xobj implements TypeStore
         return null;
     }
 
+    public CharSequence find_element_chars ( QName name, int i, int wsr )
+    {
+        int ordinal = elementOrdinal( name );
+
+        for ( Xobj x = _firstChild ; x != null ; x = x._nextSibling )
+            if (isElem( x, name, ordinal ) && --i < 0)
+                return x.getUserlessChars( wsr );
+
+        return null;
+    }
+
     public void find_all_element_users ( QName name, List fillMeUp )
     {
+        int ordinal = elementOrdinal( name );
+
         for ( Xobj x = _firstChild ; x != null ; x = x._nextSibling )
-            if (x.isElem() && x._name.equals( name ))
+            if (isElem( x, name, ordinal ))
                 fillMeUp.add( x.getUser() );
     }
 
@@ -2171,6 +2371,19 @@ abstract class Xobj implements TypeStore
         if (!isContainer())
             throw new IllegalStateException();
 
+        Xobj candidate = findAddPosition( name );
+
+        return
+            candidate == null
+                ? insertElement( name, this, END_POS )
+                : insertElement( name, candidate, 0 );
+    }
+
+    // Returns the child before which a new element with the given name is
+    // added, or null if it goes at the end
+
+    private Xobj findAddPosition ( QName name )
+    {
         QNameSet endSet = null;
         boolean  gotEndSet = false;
 
@@ -2194,10 +2407,85 @@ abstract class Xobj implements TypeStore
             }
         }
 
-        return
-            candidate == null
-                ? insertElement( name, this, END_POS )
-                : insertElement( name, candidate, 0 );
+        return candidate;
+    }
+
+    public TypeStoreUser[] resize_element_users ( QName name, int n )
+    {
+        return resizeElements( name, null, name, n );
+    }
+
+    public TypeStoreUser[] resize_element_users ( QNameSet names, QName name, int n )
+    {
+        return resizeElements( null, names, name, n );
+    }
+
+    private TypeStoreUser[] resizeElements (
+        QName name, QNameSet names, QName newName, int n )
+    {
+        if (n < 0)
+            throw new IndexOutOfBoundsException();
+
+        if (!isContainer())
+            throw new IllegalStateException();
+
+        _locale.enter();
+
+        try
+        {
+            ArrayList elems = new ArrayList();
+
+            for ( Xobj x = _firstChild ; x != null ; x = x._nextSibling )
+            {
+                if (x.isElem() &&
+                        (names == null ? x._name.equals( name ) : names.contains( x._name )))
+                    elems.add( x );
+            }
+
+            for ( int m = elems.size() ; m > n ; m-- )
+                removeElement( (Xobj) elems.remove( m - 1 ) );
+
+            if (elems.size() < n)
+            {
+                // Build the missing elements under a fragment of their own,
+                // then splice them all in with one move, rather than
+                // inserting (and notifying) once per element
+
+                Xobj frag = new DocumentFragXobj( _locale );
+
+                for ( int m = elems.size() ; m < n ; m++ )
+                {
+                    Xobj x = Cur.createElementXobj( _locale, newName, _name );
+                    frag.appendXobj( x );
+                    elems.add( x );
+                }
+
+                Xobj candidate = findAddPosition( newName );
+
+                ensureOccupancy();
+
+                Cur c = _locale.tempCur();
+
+                if (candidate == null)
+                    c.moveTo( this, END_POS );
+                else
+                    c.moveTo( candidate, 0 );
+
+                Cur.moveNodeContents( frag, c, false );
+                c.release();
+            }
+
+            TypeStoreUser[] users = new TypeStoreUser[ n ];
+
+            for ( int i = 0 ; i < n ; i++ )
+                users[ i ] = ((Xobj) elems.get( i )).getUser();
+
+            return users;
+        }
+        finally
+        {
+            _locale.exit();
+        }
     }
 
     private static void removeElement ( Xobj x )
@@ -2227,10 +2515,11 @@ abstract class Xobj implements TypeStore
         if (!isContainer())
             throw new IllegalStateException();
 
+        int ordinal = elementOrdinal( name );
         Xobj x;
 
         for ( x = _firstChild ; x != null ; x = x._nextSibling )
-            if (x.isElem() && x._name.equals( name ) && --i < 0)
+            if (isElem( x, name, ordinal ) && --i < 0)
                 break;
 
         removeElement( x );
@@ -2260,6 +2549,39 @@ abstract class Xobj implements TypeStore
         return a == null ? null : a.getUser();
     }
 
+    public CharSequence find_attribute_chars ( QName name, int wsr )
+    {
+        Xobj a = getAttr( name );
+
+        return a == null ? null : a.getUserlessChars( wsr );
+    }
+
+    // The text of this node for find_element_chars and find_attribute_chars,
+    // or null if its value is not just its text.  A user may hold a value
+    // not yet in the text, and attributes (xsi:nil, xsi:type) or children
+    // can change what the value is, so those are left to the user.
+
+    private CharSequence getUserlessChars ( int wsr )
+    {
+        if (_user != null || _firstChild != null || _locale._validateOnSet)
+            return null;
+
+        _locale.enter();
+
+        try
+        {
+            assert isValid() && isOccupied();
+
+            CharSequence cs = getValueAsChars( wsr );
+
+            return cs == null || cs.length() == 0 ? null : cs;
+        }
+        finally
+        {
+            _locale.exit();
+        }
+    }
+
     public TypeStoreUser add_attribute_user ( QName name )
     {
         if (getAttr( name ) != null)
@@ -2624,6 +2946,10 @@ abstract class Xobj implements TypeStore
 
         Xobj newNode ( Locale l ) { return new DocumentXobj( l ); }
 
+        ElementIndex getElementIndex ( ) { return _elementIndex; }
+
+        void setElementIndex ( ElementIndex index ) { _elementIndex = index; }
+
         //
         //
         //
@@ -2681,12 +3007,19 @@ abstract class Xobj implements TypeStore
                 _idToElement.remove(idVal);
         }
         private java.util.Hashtable  _idToElement;
+        private ElementIndex _elementIndex;
     }
     static class DocumentFragXobj extends NodeXobj implements DocumentFragment
     {
         DocumentFragXobj ( Locale l ) { super( l, ROOT, DomImpl.DOCFRAG ); }
 
         Xobj newNode ( Locale l ) { return new DocumentFragXobj( l ); }
+
+        ElementIndex getElementIndex ( ) { return _elementIndex; }
+
+        void setElementIndex ( ElementIndex index ) { _elementIndex = index; }
+
+        private ElementIndex _elementIndex;
     }
 
     final static class ElementAttributes implements NamedNodeMap
@@ -3248,4 +3581,8 @@ abstract class Xobj implements TypeStore
 
     // TODO - put this in a ptr off this node
     TypeStoreUser _user;
+
+    // The ordinal the user of the container gives the name of this
+    // element, 0 until it is asked for
+    int _ordinal;
 }
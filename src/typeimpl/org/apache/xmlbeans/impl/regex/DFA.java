@@ -0,0 +1,416 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table-driven deterministic automaton for XML Schema patterns.
+ * <p>
+ * XML Schema patterns are implicitly anchored at both ends, and most of
+ * them (codes, dates, identifiers) are plain character classes combined
+ * with sequences, alternatives and repetitions.  For those, whether a
+ * string matches is decided with one table lookup per character instead
+ * of running the backtracking interpreter.  The automaton is built from
+ * the token tree with the position (Glushkov) construction followed by
+ * the subset construction, over the character classes induced by the
+ * ranges of the pattern.
+ * <p>
+ * Patterns using anything else (back references, anchors, look-arounds,
+ * case insensitivity), or whose automaton would be too large, are not
+ * compiled.  Strings containing surrogates are left to the interpreter,
+ * which defines how unpaired surrogates are matched.
+ */
+final class DFA {
+    static final int NO_MATCH = 0;
+    static final int MATCH = 1;
+    static final int UNKNOWN = -1;
+
+    static final int MAX_POSITIONS = 1024;
+    static final int MAX_STATES = 512;
+    static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private static final int BMP_LIMIT = 0x10000;
+
+    /** Class i holds the characters from boundaries[i] to boundaries[i+1]-1. */
+    private final int[] boundaries;
+    private final int[] asciiClasses;
+    private final int nofclasses;
+    /** Next state for a state and a class, -1 for no match. */
+    private final int[] table;
+    private final boolean[] accepting;
+
+    private DFA(int[] boundaries, int[] table, boolean[] accepting) {
+        this.boundaries = boundaries;
+        this.nofclasses = boundaries.length;
+        this.table = table;
+        this.accepting = accepting;
+        this.asciiClasses = new int[128];
+        for (int ch = 0;  ch < 128;  ch ++)
+            this.asciiClasses[ch] = this.classOf0(ch);
+    }
+
+    /**
+     * Compiles the token tree of an XML Schema pattern, returning null if
+     * the pattern has to be interpreted.
+     */
+    static DFA compile(Token tokentree, int options) {
+        if (!RegularExpression.isSet(options, RegularExpression.XMLSCHEMA_MODE)
+            || RegularExpression.isSet(options, RegularExpression.IGNORE_CASE))
+            return null;
+        Builder builder = new Builder(RegularExpression.isSet(options, RegularExpression.SINGLE_LINE));
+        Fragment root;
+        try {
+            root = builder.build(tokentree);
+        } catch (TooComplexException e) {
+            return null;
+        }
+        return builder.subsets(root);
+    }
+
+    /**
+     * Returns MATCH or NO_MATCH, or UNKNOWN if the interpreter has to decide.
+     */
+    int match(String target, int start, int end) {
+        int state = 0;
+        for (int i = start;  i < end;  i ++) {
+            char ch = target.charAt(i);
+            if (REUtil.isHighSurrogate(ch) || REUtil.isLowSurrogate(ch))
+                return UNKNOWN;
+            state = this.table[state*this.nofclasses+this.classOf(ch)];
+            if (state < 0)
+                return NO_MATCH;
+        }
+        return this.accepting[state] ? MATCH : NO_MATCH;
+    }
+
+    /**
+     * Returns MATCH or NO_MATCH, or UNKNOWN if the interpreter has to decide.
+     */
+    int match(char[] target, int start, int end) {
+        int state = 0;
+        for (int i = start;  i < end;  i ++) {
+            char ch = target[i];
+            if (REUtil.isHighSurrogate(ch) || REUtil.isLowSurrogate(ch))
+                return UNKNOWN;
+            state = this.table[state*this.nofclasses+this.classOf(ch)];
+            if (state < 0)
+                return NO_MATCH;
+        }
+        return this.accepting[state] ? MATCH : NO_MATCH;
+    }
+
+    private int classOf(char ch) {
+        return ch < 128 ? this.asciiClasses[ch] : this.classOf0(ch);
+    }
+
+    private int classOf0(int ch) {
+        int i = Arrays.binarySearch(this.boundaries, ch);
+        return i >= 0 ? i : -i-2;
+    }
+
+    private static class TooComplexException extends Exception {
+    }
+
+    /**
+     * First and last positions of a part of the pattern, and whether it
+     * matches the empty string.
+     */
+    private static class Fragment {
+        boolean nullable;
+        BitSet first = new BitSet();
+        BitSet last = new BitSet();
+
+        Fragment(boolean nullable) {
+            this.nullable = nullable;
+        }
+    }
+
+    private static class Builder {
+        private final boolean singleLine;
+        // Sorted, disjoint [lo, hi] pairs of BMP characters, per position.
+        // Position 0 is the start state.
+        private final List sets = new ArrayList();
+        private final List follow = new ArrayList();
+
+        Builder(boolean singleLine) {
+            this.singleLine = singleLine;
+            this.sets.add(new int[0]);
+            this.follow.add(new BitSet());
+        }
+
+        Fragment build(Token tok) throws TooComplexException {
+            switch (tok.type) {
+            case Token.CHAR:
+                if (tok.getChar() >= BMP_LIMIT)
+                    throw new TooComplexException();
+                return this.position(new int[] {tok.getChar(), tok.getChar()});
+
+            case Token.DOT:
+                if (this.singleLine)
+                    return this.position(new int[] {0, BMP_LIMIT-1});
+                return this.position(complement(normalize(new int[] {
+                    RegularExpression.LINE_FEED, RegularExpression.LINE_FEED,
+                    RegularExpression.CARRIAGE_RETURN, RegularExpression.CARRIAGE_RETURN,
+                    RegularExpression.LINE_SEPARATOR, RegularExpression.LINE_SEPARATOR,
+                    RegularExpression.PARAGRAPH_SEPARATOR, RegularExpression.PARAGRAPH_SEPARATOR})));
+
+            case Token.RANGE:
+            case Token.NRANGE:
+                int[] ranges = ((RangeToken)tok).ranges;
+                int[] set = normalize(ranges == null ? new int[0] : ranges);
+                return this.position(tok.type == Token.RANGE ? set : complement(set));
+
+            case Token.STRING:
+                String str = tok.getString();
+                Fragment s = new Fragment(true);
+                for (int i = 0;  i < str.length();  i ++) {
+                    char ch = str.charAt(i);
+                    if (REUtil.isHighSurrogate(ch) || REUtil.isLowSurrogate(ch))
+                        throw new TooComplexException();
+                    s = this.concat(s, this.position(new int[] {ch, ch}));
+                }
+                return s;
+
+            case Token.EMPTY:
+                return new Fragment(true);
+
+            case Token.PAREN:
+                return this.build(tok.getChild(0));
+
+            case Token.CONCAT:
+                Fragment c = new Fragment(true);
+                for (int i = 0;  i < tok.size();  i ++)
+                    c = this.concat(c, this.build(tok.getChild(i)));
+                return c;
+
+            case Token.UNION:
+                Fragment u = new Fragment(false);
+                for (int i = 0;  i < tok.size();  i ++) {
+                    Fragment child = this.build(tok.getChild(i));
+                    u.nullable |= child.nullable;
+                    u.first.or(child.first);
+                    u.last.or(child.last);
+                }
+                return u;
+
+            case Token.CLOSURE:
+            case Token.NONGREEDYCLOSURE:
+                // Greediness does not change which strings match the
+                // whole pattern.
+                return this.closure(tok.getChild(0), tok.getMin(), tok.getMax());
+
+            default:
+                throw new TooComplexException();
+            }
+        }
+
+        private Fragment closure(Token child, int min, int max) throws TooComplexException {
+            if (min < 0)
+                min = 0;
+            if (min > MAX_POSITIONS || max > MAX_POSITIONS)
+                throw new TooComplexException();
+            Fragment ret = new Fragment(true);
+            for (int i = 0;  i < min;  i ++)
+                ret = this.concat(ret, this.build(child));
+            if (max < 0)
+                return this.concat(ret, this.star(this.build(child)));
+            // X{2,6} -> XX(X(X(XX?)?)?)?
+            Fragment optional = new Fragment(true);
+            for (int i = min;  i < max;  i ++) {
+                optional = this.concat(this.build(child), optional);
+                optional.nullable = true;
+            }
+            return this.concat(ret, optional);
+        }
+
+        private Fragment position(int[] set) throws TooComplexException {
+            int p = this.sets.size();
+            if (p > MAX_POSITIONS)
+                throw new TooComplexException();
+            this.sets.add(set);
+            this.follow.add(new BitSet());
+            Fragment ret = new Fragment(false);
+            ret.first.set(p);
+            ret.last.set(p);
+            return ret;
+        }
+
+        private Fragment concat(Fragment a, Fragment b) {
+            for (int i = a.last.nextSetBit(0);  i >= 0;  i = a.last.nextSetBit(i+1))
+                ((BitSet)this.follow.get(i)).or(b.first);
+            Fragment ret = new Fragment(a.nullable && b.nullable);
+            ret.first.or(a.first);
+            if (a.nullable)
+                ret.first.or(b.first);
+            ret.last.or(b.last);
+            if (b.nullable)
+                ret.last.or(a.last);
+            return ret;
+        }
+
+        private Fragment star(Fragment a) {
+            for (int i = a.last.nextSetBit(0);  i >= 0;  i = a.last.nextSetBit(i+1))
+                ((BitSet)this.follow.get(i)).or(a.first);
+            a.nullable = true;
+            return a;
+        }
+
+        DFA subsets(Fragment root) {
+            int npositions = this.sets.size();
+            ((BitSet)this.follow.get(0)).or(root.first);
+
+            // Character classes: the BMP split at every range boundary
+            BitSet cuts = new BitSet();
+            cuts.set(0);
+            for (int p = 1;  p < npositions;  p ++) {
+                int[] set = (int[])this.sets.get(p);
+                for (int i = 0;  i < set.length;  i += 2) {
+                    cuts.set(set[i]);
+                    if (set[i+1]+1 < BMP_LIMIT)
+                        cuts.set(set[i+1]+1);
+                }
+            }
+            int[] boundaries = new int[cuts.cardinality()];
+            for (int ch = cuts.nextSetBit(0), i = 0;  ch >= 0;  ch = cuts.nextSetBit(ch+1))
+                boundaries[i ++] = ch;
+            int nofclasses = boundaries.length;
+
+            // The classes each position accepts
+            BitSet[] accepts = new BitSet[npositions];
+            for (int p = 1;  p < npositions;  p ++) {
+                accepts[p] = new BitSet();
+                int[] set = (int[])this.sets.get(p);
+                for (int i = 0;  i < set.length;  i += 2) {
+                    int from = Arrays.binarySearch(boundaries, set[i]);
+                    int to = set[i+1]+1 < BMP_LIMIT
+                        ? Arrays.binarySearch(boundaries, set[i+1]+1) : nofclasses;
+                    accepts[p].set(from, to);
+                }
+            }
+
+            Map ids = new HashMap();
+            List states = new ArrayList();
+            List rows = new ArrayList();
+            BitSet start = new BitSet();
+            start.set(0);
+            ids.put(start, new Integer(0));
+            states.add(start);
+
+            for (int s = 0;  s < states.size();  s ++) {
+                BitSet state = (BitSet)states.get(s);
+                BitSet candidates = new BitSet();
+                for (int p = state.nextSetBit(0);  p >= 0;  p = state.nextSetBit(p+1))
+                    candidates.or((BitSet)this.follow.get(p));
+
+                BitSet[] targets = new BitSet[nofclasses];
+                for (int q = candidates.nextSetBit(0);  q >= 0;  q = candidates.nextSetBit(q+1)) {
+                    for (int c = accepts[q].nextSetBit(0);  c >= 0;  c = accepts[q].nextSetBit(c+1)) {
+                        if (targets[c] == null)
+                            targets[c] = new BitSet();
+                        targets[c].set(q);
+                    }
+                }
+
+                int[] row = new int[nofclasses];
+                for (int c = 0;  c < nofclasses;  c ++) {
+                    if (targets[c] == null) {
+                        row[c] = -1;
+                        continue;
+                    }
+                    Integer id = (Integer)ids.get(targets[c]);
+                    if (id == null) {
+                        if (states.size() >= MAX_STATES
+                            || (states.size()+1)*nofclasses > MAX_TABLE_SIZE)
+                            return null;
+                        id = new Integer(states.size());
+                        ids.put(targets[c], id);
+                        states.add(targets[c]);
+                    }
+                    row[c] = id.intValue();
+                }
+                rows.add(row);
+            }
+
+            int[] table = new int[states.size()*nofclasses];
+            boolean[] accepting = new boolean[states.size()];
+            for (int s = 0;  s < states.size();  s ++) {
+                System.arraycopy((int[])rows.get(s), 0, table, s*nofclasses, nofclasses);
+                BitSet state = (BitSet)states.get(s);
+                accepting[s] = s == 0 ? root.nullable : state.intersects(root.last);
+            }
+            return new DFA(boundaries, table, accepting);
+        }
+
+        /**
+         * Sorts and merges [lo, hi] pairs, dropping what lies outside the BMP.
+         */
+        private static int[] normalize(int[] ranges) {
+            List pairs = new ArrayList();
+            for (int i = 0;  i+1 < ranges.length;  i += 2) {
+                if (ranges[i] < BMP_LIMIT && ranges[i] <= ranges[i+1])
+                    pairs.add(new int[] {ranges[i], Math.min(ranges[i+1], BMP_LIMIT-1)});
+            }
+            int[][] sorted = (int[][])pairs.toArray(new int[pairs.size()][]);
+            Arrays.sort(sorted, new java.util.Comparator() {
+                public int compare(Object o1, Object o2) {
+                    return ((int[])o1)[0]-((int[])o2)[0];
+                }
+            });
+            int[] ret = new int[sorted.length*2];
+            int len = 0;
+            for (int i = 0;  i < sorted.length;  i ++) {
+                if (len > 0 && sorted[i][0] <= ret[len-1]+1) {
+                    ret[len-1] = Math.max(ret[len-1], sorted[i][1]);
+                } else {
+                    ret[len ++] = sorted[i][0];
+                    ret[len ++] = sorted[i][1];
+                }
+            }
+            int[] compact = new int[len];
+            System.arraycopy(ret, 0, compact, 0, len);
+            return compact;
+        }
+
+        /**
+         * The BMP characters not in a normalized set.
+         */
+        private static int[] complement(int[] set) {
+            int[] ret = new int[set.length+2];
+            int len = 0;
+            int next = 0;
+            for (int i = 0;  i < set.length;  i += 2) {
+                if (set[i] > next) {
+                    ret[len ++] = next;
+                    ret[len ++] = set[i]-1;
+                }
+                next = set[i+1]+1;
+            }
+            if (next < BMP_LIMIT) {
+                ret[len ++] = next;
+                ret[len ++] = BMP_LIMIT-1;
+            }
+            int[] compact = new int[len];
+            System.arraycopy(ret, 0, compact, 0, len);
+            return compact;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.apache.xmlbeans.impl.regex;
 
 import java.text.CharacterIterator;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A regular expression matching engine using Non-deterministic Finite Automaton (NFA).
@@ -694,17 +695,22 @@ public class RegularExpression implements java.io.Serializable {
      */
     public boolean matches(char[]  target, int start, int end, Match match) {
 
-        synchronized (this) {
-            if (this.operations == null)
-                this.prepare();
-            if (this.context == null)
-                this.context = new Context();
+        this.ensurePrepared();
+        if (match == null && this.dfa != null) {
+            int result = this.dfa.match(target, start, end);
+            if (result != DFA.UNKNOWN)
+                return result == DFA.MATCH;
         }
-        Context con = null;
-        synchronized (this.context) {
-            con = this.context.inuse ? new Context() : this.context;
+        Context con = this.acquireContext();
+        try {
             con.reset(target, start, end, this.numberOfClosures);
+            return this.matches(con, target, match);
+        } finally {
+            this.releaseContext(con);
         }
+    }
+
+    private boolean matches(Context con, char[]  target, Match match) {
         if (match != null) {
             match.setNumberOfGroups(this.nofparen);
             match.setSource(target);
@@ -724,7 +730,6 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, con.start);
                     con.match.setEnd(0, matchEnd);
                 }
-                con.inuse = false;
                 return true;
             }
             return false;
@@ -742,10 +747,8 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, o);
                     con.match.setEnd(0, o+this.fixedString.length());
                 }
-                con.inuse = false;
                 return true;
             }
-            con.inuse = false;
             return false;
         }
 
@@ -758,7 +761,6 @@ public class RegularExpression implements java.io.Serializable {
             int o = this.fixedStringTable.matches(target, con.start, con.limit);
             if (o < 0) {
                 //System.err.println("Non-match in fixed-string search.");
-                con.inuse = false;
                 return false;
             }
         }
@@ -846,10 +848,8 @@ public class RegularExpression implements java.io.Serializable {
                 con.match.setBeginning(0, matchStart);
                 con.match.setEnd(0, matchEnd);
             }
-            con.inuse = false;
             return true;
         } else {
-            con.inuse = false;
             return false;
         }
     }
@@ -1403,17 +1403,22 @@ public class RegularExpression implements java.io.Serializable {
      */
     public boolean matches(String  target, int start, int end, Match match) {
 
-        synchronized (this) {
-            if (this.operations == null)
-                this.prepare();
-            if (this.context == null)
-                this.context = new Context();
+        this.ensurePrepared();
+        if (match == null && this.dfa != null) {
+            int result = this.dfa.match(target, start, end);
+            if (result != DFA.UNKNOWN)
+                return result == DFA.MATCH;
         }
-        Context con = null;
-        synchronized (this.context) {
-            con = this.context.inuse ? new Context() : this.context;
+        Context con = this.acquireContext();
+        try {
             con.reset(target, start, end, this.numberOfClosures);
+            return this.matches(con, target, match);
+        } finally {
+            this.releaseContext(con);
         }
+    }
+
+    private boolean matches(Context con, String  target, Match match) {
         if (match != null) {
             match.setNumberOfGroups(this.nofparen);
             match.setSource(target);
@@ -1439,7 +1444,6 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, con.start);
                     con.match.setEnd(0, matchEnd);
                 }
-                con.inuse = false;
                 return true;
             }
             return false;
@@ -1457,10 +1461,8 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, o);
                     con.match.setEnd(0, o+this.fixedString.length());
                 }
-                con.inuse = false;
                 return true;
             }
-            con.inuse = false;
             return false;
         }
 
@@ -1473,7 +1475,6 @@ public class RegularExpression implements java.io.Serializable {
             int o = this.fixedStringTable.matches(target, con.start, con.limit);
             if (o < 0) {
                 //System.err.println("Non-match in fixed-string search.");
-                con.inuse = false;
                 return false;
             }
         }
@@ -1561,10 +1562,8 @@ public class RegularExpression implements java.io.Serializable {
                 con.match.setBeginning(0, matchStart);
                 con.match.setEnd(0, matchEnd);
             }
-            con.inuse = false;
             return true;
         } else {
-            con.inuse = false;
             return false;
         }
     }
@@ -2056,17 +2055,17 @@ public class RegularExpression implements java.io.Serializable {
 
 
 
-        synchronized (this) {
-            if (this.operations == null)
-                this.prepare();
-            if (this.context == null)
-                this.context = new Context();
-        }
-        Context con = null;
-        synchronized (this.context) {
-            con = this.context.inuse ? new Context() : this.context;
+        this.ensurePrepared();
+        Context con = this.acquireContext();
+        try {
             con.reset(target, start, end, this.numberOfClosures);
+            return this.matches(con, target, match);
+        } finally {
+            this.releaseContext(con);
         }
+    }
+
+    private boolean matches(Context con, CharacterIterator  target, Match match) {
         if (match != null) {
             match.setNumberOfGroups(this.nofparen);
             match.setSource(target);
@@ -2086,7 +2085,6 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, con.start);
                     con.match.setEnd(0, matchEnd);
                 }
-                con.inuse = false;
                 return true;
             }
             return false;
@@ -2104,10 +2102,8 @@ public class RegularExpression implements java.io.Serializable {
                     con.match.setBeginning(0, o);
                     con.match.setEnd(0, o+this.fixedString.length());
                 }
-                con.inuse = false;
                 return true;
             }
-            con.inuse = false;
             return false;
         }
 
@@ -2120,7 +2116,6 @@ public class RegularExpression implements java.io.Serializable {
             int o = this.fixedStringTable.matches(target, con.start, con.limit);
             if (o < 0) {
                 //System.err.println("Non-match in fixed-string search.");
-                con.inuse = false;
                 return false;
             }
         }
@@ -2208,10 +2203,8 @@ public class RegularExpression implements java.io.Serializable {
                 con.match.setBeginning(0, matchStart);
                 con.match.setEnd(0, matchEnd);
             }
-            con.inuse = false;
             return true;
         } else {
-            con.inuse = false;
             return false;
         }
     }
@@ -2756,13 +2749,15 @@ public class RegularExpression implements java.io.Serializable {
     transient int minlength;
     transient Op operations = null;
     transient int numberOfClosures;
-    transient Context context = null;
+    transient volatile boolean prepared = false;
+    transient volatile Context context = null;
     transient RangeToken firstChar = null;
 
     transient String fixedString = null;
     transient int fixedStringOptions;
     transient BMPattern fixedStringTable = null;
     transient boolean fixedStringOnly = false;
+    transient DFA dfa = null;
 
 
     static final class Context {
@@ -2773,7 +2768,6 @@ public class RegularExpression implements java.io.Serializable {
         int limit;
         int length;
         Match match;
-        boolean inuse = false;
         int[] offsets;
 
         Context() {
@@ -2781,7 +2775,6 @@ public class RegularExpression implements java.io.Serializable {
 
         private void resetCommon(int nofclosures) {
             this.length = this.limit-this.start;
-            this.inuse = true;
             this.match = null;
             if (this.offsets == null || this.offsets.length != nofclosures)
                 this.offsets = new int[nofclosures];
@@ -2805,6 +2798,47 @@ public class RegularExpression implements java.io.Serializable {
             this.limit = limit;
             this.resetCommon(nofclosures);
         }
+        void clear() {
+            this.ciTarget = null;
+            this.strTarget = null;
+            this.charTarget = null;
+            this.match = null;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater CONTEXT_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(RegularExpression.class, Context.class, "context");
+
+    /**
+     * Prepares for matching the first time this is matched.  Once prepared,
+     * matching takes no locks, so that many threads can match one shared
+     * instance, as validators do with pattern facets.
+     */
+    private void ensurePrepared() {
+        if (this.prepared)
+            return;
+        synchronized (this) {
+            if (!this.prepared) {
+                this.prepare();
+                this.prepared = true;
+            }
+        }
+    }
+
+    /**
+     * Takes the cached context, or a new one when another thread is using it.
+     */
+    private Context acquireContext() {
+        Context con = (Context)CONTEXT_UPDATER.getAndSet(this, null);
+        return con != null ? con : new Context();
+    }
+
+    /**
+     * Puts a context back in the cache, dropping its references to the target.
+     */
+    private void releaseContext(Context con) {
+        con.clear();
+        this.context = con;
     }
 
     /**
@@ -2876,6 +2910,10 @@ public class RegularExpression implements java.io.Serializable {
                 }
             }
         }
+
+        // Whether an XML Schema pattern matches is decided by a DFA when
+        // the pattern allows one.
+        this.dfa = this.hasBackReferences ? null : DFA.compile(this.tokentree, this.options);
     }
 
     /**
@@ -2950,7 +2988,7 @@ public class RegularExpression implements java.io.Serializable {
     static final int SPECIAL_COMMA = 1<<10;
 
 
-    private static final boolean isSet(int options, int flag) {
+    static final boolean isSet(int options, int flag) {
         return (options & flag) == flag;
     }
 
@@ -3000,6 +3038,7 @@ public class RegularExpression implements java.io.Serializable {
         this.hasBackReferences = rp.hasBackReferences;
 
         this.operations = null;
+        this.prepared = false;
         this.context = null;
     }
     /**
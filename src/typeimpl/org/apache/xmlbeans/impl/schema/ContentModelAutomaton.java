@@ -0,0 +1,351 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.schema;
+
+import org.apache.xmlbeans.QNameSet;
+import org.apache.xmlbeans.SchemaParticle;
+
+import javax.xml.namespace.QName;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A deterministic automaton over element names, compiled from a content
+ * model, which checks element order with one table lookup per element
+ * instead of interpreting the particle tree.
+ * <p>
+ * The automaton is the Glushkov (position) automaton of the content model:
+ * state 0 is the start state and every other state stands for one element
+ * or wildcard particle occurrence, which is the particle matched by the
+ * transition into it.  Occurrence ranges are unrolled, so only content
+ * models with modest bounds are compiled.  Content models using xs:all, or
+ * which are not deterministic, are not compiled at all and are left to
+ * {@link SchemaTypeVisitorImpl}'s interpreter.
+ * <p>
+ * The automaton is not kept in the .xsb files: it is compiled, on first
+ * use, from the content model they do keep, so it cannot get out of step
+ * with it.  The validator and the element sequencer of SchemaTypeImpl both
+ * run it through SchemaTypeVisitorImpl, which is the one place where it
+ * stands in for the interpreter.
+ */
+public final class ContentModelAutomaton
+{
+    /** Content models needing more particle occurrences than this are not compiled. */
+    static final int MAX_POSITIONS = 512;
+
+    private final SchemaParticle[] _particles;
+    private final boolean[] _final;
+    private final Map[] _names;
+    private final QNameSet[][] _wildcards;
+    private final int[][] _wildcardTargets;
+
+    private ContentModelAutomaton(SchemaParticle[] particles, boolean[] isFinal,
+        Map[] names, QNameSet[][] wildcards, int[][] wildcardTargets)
+    {
+        _particles = particles;
+        _final = isFinal;
+        _names = names;
+        _wildcards = wildcards;
+        _wildcardTargets = wildcardTargets;
+    }
+
+    /**
+     * Compiles the given content model, returning null if it cannot be
+     * compiled and has to be interpreted.
+     */
+    public static ContentModelAutomaton compile(SchemaParticle contentModel)
+    {
+        if (contentModel == null)
+            return null;
+
+        Builder builder = new Builder();
+        Fragment root;
+
+        try
+        {
+            root = builder.occurrences(contentModel);
+        }
+        catch (TooComplexException e)
+        {
+            return null;
+        }
+
+        return builder.build(root);
+    }
+
+    /** The start state. */
+    public int start()
+        { return 0; }
+
+    /**
+     * The state reached from state on an element with the given name, or
+     * -1 if the element is not allowed there.
+     */
+    public int next(int state, QName name)
+    {
+        Integer target = (Integer)_names[state].get(name);
+
+        if (target != null)
+            return target.intValue();
+
+        QNameSet[] wildcards = _wildcards[state];
+
+        for (int i = 0; i < wildcards.length; i++)
+        {
+            if (wildcards[i].contains(name))
+                return _wildcardTargets[state][i];
+        }
+
+        return -1;
+    }
+
+    /** True if the content may end in the given state. */
+    public boolean isFinal(int state)
+        { return _final[state]; }
+
+    /** The particle matched by the element which lead to the given state. */
+    public SchemaParticle particle(int state)
+        { return _particles[state]; }
+
+    /** The number of states. */
+    public int stateCount()
+        { return _particles.length; }
+
+    private static class TooComplexException extends Exception
+    {
+    }
+
+    /**
+     * The first and last positions of a part of the content model, and
+     * whether it can match no elements at all.
+     */
+    private static class Fragment
+    {
+        Fragment(boolean nullable)
+        {
+            _nullable = nullable;
+            _first = new BitSet();
+            _last = new BitSet();
+        }
+
+        boolean _nullable;
+        BitSet _first;
+        BitSet _last;
+    }
+
+    private static class Builder
+    {
+        // Positions are numbered from 1, position 0 is the start state
+        private List _particles = new ArrayList();
+        private List _follow = new ArrayList();
+
+        Builder()
+        {
+            _particles.add(null);
+            _follow.add(new BitSet());
+        }
+
+        Fragment occurrences(SchemaParticle part) throws TooComplexException
+        {
+            int min = part.getIntMinOccurs();
+            int max = part.getIntMaxOccurs();
+
+            if (min > MAX_POSITIONS)
+                throw new TooComplexException();
+
+            Fragment result = new Fragment(true);
+
+            for (int i = 0; i < min; i++)
+                result = concat(result, particle(part));
+
+            if (max == Integer.MAX_VALUE)
+                return concat(result, star(particle(part)));
+
+            if (max - min > MAX_POSITIONS)
+                throw new TooComplexException();
+
+            // Optional occurrences nest, (p (p (p)?)?)?, so that the
+            // automaton stays deterministic
+
+            return concat(result, optional(part, max - min));
+        }
+
+        private Fragment optional(SchemaParticle part, int count) throws TooComplexException
+        {
+            if (count == 0)
+                return new Fragment(true);
+
+            Fragment first = particle(part);
+            Fragment result = concat(first, optional(part, count - 1));
+            result._nullable = true;
+
+            return result;
+        }
+
+        private Fragment particle(SchemaParticle part) throws TooComplexException
+        {
+            switch (part.getParticleType())
+            {
+                case SchemaParticle.ELEMENT:
+                case SchemaParticle.WILDCARD:
+                {
+                    int position = _particles.size();
+
+                    if (position > MAX_POSITIONS)
+                        throw new TooComplexException();
+
+                    _particles.add(part);
+                    _follow.add(new BitSet());
+
+                    Fragment result = new Fragment(false);
+                    result._first.set(position);
+                    result._last.set(position);
+
+                    return result;
+                }
+
+                case SchemaParticle.SEQUENCE:
+                {
+                    Fragment result = new Fragment(true);
+
+                    for (int i = 0; i < part.countOfParticleChild(); i++)
+                        result = concat(result, occurrences(part.getParticleChild(i)));
+
+                    return result;
+                }
+
+                case SchemaParticle.CHOICE:
+                {
+                    if (part.countOfParticleChild() == 0)
+                        throw new TooComplexException();
+
+                    Fragment result = new Fragment(false);
+
+                    for (int i = 0; i < part.countOfParticleChild(); i++)
+                    {
+                        Fragment child = occurrences(part.getParticleChild(i));
+
+                        result._nullable |= child._nullable;
+                        result._first.or(child._first);
+                        result._last.or(child._last);
+                    }
+
+                    return result;
+                }
+
+                default:
+                    // xs:all would need a state per subset of its particles
+                    throw new TooComplexException();
+            }
+        }
+
+        private Fragment concat(Fragment a, Fragment b)
+        {
+            for (int i = a._last.nextSetBit(0); i >= 0; i = a._last.nextSetBit(i + 1))
+                ((BitSet)_follow.get(i)).or(b._first);
+
+            Fragment result = new Fragment(a._nullable && b._nullable);
+
+            result._first.or(a._first);
+            if (a._nullable)
+                result._first.or(b._first);
+
+            result._last.or(b._last);
+            if (b._nullable)
+                result._last.or(a._last);
+
+            return result;
+        }
+
+        private Fragment star(Fragment a)
+        {
+            for (int i = a._last.nextSetBit(0); i >= 0; i = a._last.nextSetBit(i + 1))
+                ((BitSet)_follow.get(i)).or(a._first);
+
+            a._nullable = true;
+
+            return a;
+        }
+
+        ContentModelAutomaton build(Fragment root)
+        {
+            int n = _particles.size();
+
+            SchemaParticle[] particles = (SchemaParticle[])_particles.toArray(new SchemaParticle[n]);
+            boolean[] isFinal = new boolean[n];
+            Map[] names = new Map[n];
+            QNameSet[][] wildcards = new QNameSet[n][];
+            int[][] wildcardTargets = new int[n][];
+
+            ((BitSet)_follow.get(0)).or(root._first);
+
+            isFinal[0] = root._nullable;
+
+            for (int i = 1; i < n; i++)
+                isFinal[i] = root._last.get(i);
+
+            for (int state = 0; state < n; state++)
+            {
+                BitSet follow = (BitSet)_follow.get(state);
+
+                Map stateNames = new HashMap();
+                List stateWildcards = new ArrayList();
+                List stateTargets = new ArrayList();
+
+                for (int p = follow.nextSetBit(0); p >= 0; p = follow.nextSetBit(p + 1))
+                {
+                    QNameSet set = particles[p].acceptedStartNames();
+
+                    // Two candidates for the same element would need the
+                    // interpreter's lookahead
+
+                    for (int q = follow.nextSetBit(0); q < p; q = follow.nextSetBit(q + 1))
+                    {
+                        if (!set.isDisjoint(particles[q].acceptedStartNames()))
+                            return null;
+                    }
+
+                    Set included = set.includedURIs();
+
+                    if (included != null && included.isEmpty())
+                    {
+                        for (Iterator it = set.includedQNamesInExcludedURIs().iterator(); it.hasNext(); )
+                            stateNames.put(it.next(), new Integer(p));
+                    }
+                    else
+                    {
+                        stateWildcards.add(set);
+                        stateTargets.add(new Integer(p));
+                    }
+                }
+
+                names[state] = stateNames;
+                wildcards[state] = (QNameSet[])stateWildcards.toArray(new QNameSet[stateWildcards.size()]);
+                wildcardTargets[state] = new int[stateTargets.size()];
+
+                for (int i = 0; i < stateTargets.size(); i++)
+                    wildcardTargets[state][i] = ((Integer)stateTargets.get(i)).intValue();
+            }
+
+            return new ContentModelAutomaton(particles, isFinal, names, wildcards, wildcardTargets);
+        }
+    }
+}
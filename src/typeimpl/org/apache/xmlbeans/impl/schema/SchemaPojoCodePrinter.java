@@ -0,0 +1,982 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.schema;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.CharacterCodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import org.apache.xmlbeans.SchemaProperty;
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.impl.common.NameUtil;
+import org.apache.xmlbeans.impl.common.XmlWhitespace;
+
+/**
+ * Prints the plain Java binding of a schema type: a class with a field per
+ * property, which reads itself from an XMLStreamReaderExt and writes
+ * itself to an XMLStreamWriter, without a store underneath.
+ *
+ * The classes are placed in the "pojo" subpackage of the package of the
+ * XmlObject interfaces, and mirror their nesting.  Elements which are not
+ * bound to a property, such as wildcard content, are skipped when reading.
+ * Content is written property by property, in the order of the properties.
+ */
+final class SchemaPojoCodePrinter
+{
+    private static final String SUPPORT = "org.apache.xmlbeans.impl.richParser.BindingSupport";
+    private static final String CONVERTER = "org.apache.xmlbeans.impl.util.XsTypeConverter";
+    private static final String READER = "org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt";
+    private static final String WRITER = "javax.xml.stream.XMLStreamWriter";
+    private static final String EXCEPTION = "javax.xml.stream.XMLStreamException";
+
+    Writer _writer;
+    int    _indent;
+
+    /**
+     * Whether the schema compiler prints a plain Java binding for the type.
+     */
+    static boolean hasPojo(SchemaType sType)
+    {
+        return !sType.isSimpleType() && !sType.isBuiltinType() &&
+            !sType.isAttributeType() && sType.getFullJavaName() != null;
+    }
+
+    /**
+     * The name of the plain Java class of a type, which is nested in
+     * another one for anonymous types.
+     */
+    static String pojoClassName(SchemaType sType)
+    {
+        String fjn = sType.getFullJavaName();
+        int lastdot = fjn.lastIndexOf('.');
+        String pkg = (lastdot < 0 ? "pojo" : fjn.substring(0, lastdot) + ".pojo");
+        return pkg + "." + fjn.substring(lastdot + 1).replace('$', '.');
+    }
+
+    static void printPojo(Writer writer, SchemaType sType) throws IOException
+    {
+        new SchemaPojoCodePrinter(writer).printTopLevel(sType);
+    }
+
+    private SchemaPojoCodePrinter(Writer writer)
+    {
+        _writer = writer;
+    }
+
+    void emit(String s) throws IOException
+    {
+        _writer.write(SchemaTypeCodePrinter.MAX_SPACES.substring(0,
+            Math.min(_indent, SchemaTypeCodePrinter.MAX_SPACES.length())));
+        try
+        {
+            _writer.write(s);
+        }
+        catch (CharacterCodingException cce)
+        {
+            _writer.write(SchemaTypeCodePrinter.makeSafe(s));
+        }
+        _writer.write(SchemaTypeCodePrinter.LINE_SEPARATOR);
+    }
+
+    void indent()
+    {
+        _indent += SchemaTypeCodePrinter.INDENT_INCREMENT;
+    }
+
+    void outdent()
+    {
+        _indent -= SchemaTypeCodePrinter.INDENT_INCREMENT;
+    }
+
+    void printTopLevel(SchemaType sType) throws IOException
+    {
+        String name = pojoClassName(sType);
+        int lastdot = name.lastIndexOf('.');
+
+        emit("/*");
+        if (sType.isDocumentType())
+        {
+            emit(" * An XML document type.");
+            emit(" * Localname: " + sType.getDocumentElementName().getLocalPart());
+            emit(" * Namespace: " + sType.getDocumentElementName().getNamespaceURI());
+        }
+        else
+        {
+            emit(" * XML Type:  " + sType.getName().getLocalPart());
+            emit(" * Namespace: " + sType.getName().getNamespaceURI());
+        }
+        emit(" * Java type: " + name);
+        emit(" *");
+        emit(" * Automatically generated - do not modify.");
+        emit(" */");
+        emit("package " + name.substring(0, lastdot) + ";");
+        emit("");
+        printClass(sType, false);
+        _writer.flush();
+    }
+
+    void printClass(SchemaType sType, boolean nested) throws IOException
+    {
+        String shortName = sType.getShortJavaName();
+        Prop[] props = boundProperties(sType);
+        Prop value = simpleContent(sType, props);
+
+        emit("/**");
+        if (sType.isDocumentType())
+            emit(" * A document containing one " +
+                SchemaTypeCodePrinter.prettyQName(sType.getDocumentElementName()) + " element.");
+        else if (sType.getName() != null)
+            emit(" * An XML " + SchemaTypeCodePrinter.prettyQName(sType.getName()) + ".");
+        else
+            emit(" * An anonymous inner XML type.");
+        emit(" *");
+        emit(" * This is a plain Java binding of " + sType.getFullJavaName().replace('$', '.') + ".");
+        emit(" */");
+        emit("public " + (nested ? "static " : "") + "class " + shortName);
+        emit("{");
+        indent();
+
+        for (int i = 0; i < props.length; i++)
+            printDefault(props[i]);
+        for (int i = 0; i < props.length; i++)
+            printField(props[i]);
+        if (value != null)
+            printField(value);
+        emit("");
+
+        for (int i = 0; i < props.length; i++)
+            printAccessors(props[i]);
+        if (value != null)
+            printAccessors(value);
+
+        if (sType.isDocumentType())
+            printDocumentReadWrite(sType, props);
+        else
+            printReadWrite(sType, props, value);
+
+        printNestedClasses(sType);
+
+        outdent();
+        emit("}");
+    }
+
+    void printNestedClasses(SchemaType sType) throws IOException
+    {
+        boolean redefinition = sType.getName() != null &&
+            sType.getName().equals(sType.getBaseType().getName());
+        while (sType != null)
+        {
+            SchemaType[] anonTypes = sType.getAnonymousTypes();
+            for (int i = 0; i < anonTypes.length; i++)
+            {
+                if (anonTypes[i].isSkippedAnonymousType())
+                    printNestedClasses(anonTypes[i]);
+                else if (hasPojo(anonTypes[i]))
+                {
+                    emit("");
+                    printClass(anonTypes[i], true);
+                }
+            }
+            if (!redefinition ||
+                (sType.getDerivationType() != SchemaType.DT_EXTENSION && !sType.isSimpleType()))
+                break;
+            sType = sType.getBaseType();
+        }
+    }
+
+    /**
+     * A property as it is bound in the plain Java class.
+     */
+    static final class Prop
+    {
+        SchemaProperty property;  // null for simple content
+        String name;              // the Java property name
+        String field;             // prefixed, so as not to hide a package
+        String param;             // the name of setter parameters and locals
+        int code;                 // SchemaProperty.JAVA_*, or XML_OBJECT for a class
+        String javaType;
+        boolean boxed;
+        boolean array;
+        boolean nillable;
+        int wsr;
+        int btc;
+    }
+
+    Prop[] boundProperties(SchemaType sType)
+    {
+        SchemaProperty[] attrs = sType.getAttributeProperties();
+        SchemaProperty[] elts = sType.getElementProperties();
+        List result = new ArrayList();
+
+        for (int i = 0; i < attrs.length + elts.length; i++)
+        {
+            SchemaProperty prop = (i < attrs.length ? attrs[i] : elts[i - attrs.length]);
+            SchemaType type = prop.getType();
+
+            Prop p = new Prop();
+            p.property = prop;
+            p.name = prop.getJavaPropertyName();
+            bindNames(p);
+            p.array = prop.extendsJavaArray();
+            p.nillable = prop.hasNillable() != SchemaProperty.NEVER;
+
+            if (!type.isSimpleType())
+            {
+                // other type systems may have been compiled without
+                // the plain Java classes
+                if (!hasPojo(type) || type.getTypeSystem() != sType.getTypeSystem())
+                    continue;
+                p.code = SchemaProperty.XML_OBJECT;
+                p.javaType = pojoClassName(type);
+            }
+            else
+                bindSimple(p, type, !p.array && (prop.extendsJavaOption() || p.nillable) ||
+                    p.array && p.nillable);
+
+            result.add(p);
+        }
+
+        return (Prop[])result.toArray(new Prop[result.size()]);
+    }
+
+    Prop simpleContent(SchemaType sType, Prop[] props)
+    {
+        if (sType.getContentType() != SchemaType.SIMPLE_CONTENT)
+            return null;
+
+        SchemaType type = sType;
+        while (type != null && !type.isSimpleType())
+            type = type.getContentBasedOnType();
+
+        Prop p = new Prop();
+        p.name = "Value";
+        for (int i = 0; i < props.length; i++)
+            if (props[i].name.equals(p.name))
+                p.name = "SimpleValue";
+        bindNames(p);
+        bindSimple(p, type, false);
+        return p;
+    }
+
+    void bindSimple(Prop p, SchemaType type, boolean boxed)
+    {
+        p.code = (type == null ? SchemaProperty.XML_OBJECT : StscJavaizer.javaTypeCodeForType(type));
+        p.wsr = (type == null ? SchemaType.WS_PRESERVE : type.getWhiteSpaceRule());
+
+        SchemaType base = type;
+        if (base != null && base.getSimpleVariety() == SchemaType.UNION)
+            base = base.getUnionCommonBaseType();
+        SchemaType primitive = (base == null ? null : base.getPrimitiveType());
+        p.btc = (primitive == null ? SchemaType.BTC_NOT_BUILTIN : primitive.getBuiltinTypeCode());
+
+        switch (p.code)
+        {
+            case SchemaProperty.JAVA_BOOLEAN:
+                p.javaType = boxed ? "java.lang.Boolean" : "boolean"; break;
+            case SchemaProperty.JAVA_FLOAT:
+                p.javaType = boxed ? "java.lang.Float" : "float"; break;
+            case SchemaProperty.JAVA_DOUBLE:
+                p.javaType = boxed ? "java.lang.Double" : "double"; break;
+            case SchemaProperty.JAVA_BYTE:
+                p.javaType = boxed ? "java.lang.Byte" : "byte"; break;
+            case SchemaProperty.JAVA_SHORT:
+                p.javaType = boxed ? "java.lang.Short" : "short"; break;
+            case SchemaProperty.JAVA_INT:
+                p.javaType = boxed ? "java.lang.Integer" : "int"; break;
+            case SchemaProperty.JAVA_LONG:
+                p.javaType = boxed ? "java.lang.Long" : "long"; break;
+            case SchemaProperty.JAVA_BIG_DECIMAL:
+                p.javaType = "java.math.BigDecimal"; break;
+            case SchemaProperty.JAVA_BIG_INTEGER:
+                p.javaType = "java.math.BigInteger"; break;
+            case SchemaProperty.JAVA_GDATE:
+                p.javaType = "org.apache.xmlbeans.GDate"; break;
+            case SchemaProperty.JAVA_GDURATION:
+                p.javaType = "org.apache.xmlbeans.GDuration"; break;
+            case SchemaProperty.JAVA_QNAME:
+                p.javaType = "javax.xml.namespace.QName"; break;
+            case SchemaProperty.JAVA_BYTE_ARRAY:
+                if (p.btc == SchemaType.BTC_BASE_64_BINARY || p.btc == SchemaType.BTC_HEX_BINARY)
+                {
+                    p.javaType = "byte[]";
+                    break;
+                }
+                p.code = SchemaProperty.JAVA_STRING;
+                p.javaType = "java.lang.String";
+                break;
+            case SchemaProperty.JAVA_CALENDAR:
+            case SchemaProperty.JAVA_DATE:
+                if (p.btc != SchemaType.BTC_NOT_BUILTIN)
+                {
+                    p.code = SchemaProperty.JAVA_CALENDAR;
+                    p.javaType = "java.util.Calendar";
+                    break;
+                }
+                p.code = SchemaProperty.JAVA_STRING;
+                p.javaType = "java.lang.String";
+                break;
+            default:
+                // enumerations, lists, unions and user types are bound
+                // to their lexical value
+                p.code = SchemaProperty.JAVA_STRING;
+                p.javaType = "java.lang.String";
+                break;
+        }
+
+        p.boxed = boxed && p.code >= SchemaProperty.JAVA_FIRST_PRIMITIVE &&
+            p.code <= SchemaProperty.JAVA_LAST_PRIMITIVE;
+    }
+
+    static void bindNames(Prop p)
+    {
+        p.param = NameUtil.nonJavaKeyword(NameUtil.lowerCamelCase(p.name));
+        p.field = "_" + NameUtil.lowerCamelCase(p.name);
+    }
+
+    String fieldType(Prop p)
+    {
+        return p.array ? p.javaType + "[]" : p.javaType;
+    }
+
+    String defaultConstant(Prop p)
+    {
+        return p.param.toUpperCase() + "$DEFAULT";
+    }
+
+    /**
+     * Whether an absent attribute takes the default value of the schema,
+     * which is done for the types whose values cannot be changed.
+     */
+    boolean hasDefault(Prop p)
+    {
+        if (p.property == null || !p.property.isAttribute() ||
+            p.property.hasDefault() != SchemaProperty.CONSISTENTLY ||
+            p.property.getDefaultText() == null)
+            return false;
+
+        switch (p.code)
+        {
+            case SchemaProperty.JAVA_CALENDAR:
+            case SchemaProperty.JAVA_QNAME:
+            case SchemaProperty.JAVA_BYTE_ARRAY:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    void printDefault(Prop p) throws IOException
+    {
+        if (!hasDefault(p))
+            return;
+
+        String text = XmlWhitespace.collapse(p.property.getDefaultText(), p.wsr);
+        String literal = SchemaTypeCodePrinter.encodeString(text);
+        String expr;
+
+        switch (p.code)
+        {
+            case SchemaProperty.JAVA_BOOLEAN:
+                expr = CONVERTER + ".lexBoolean(" + literal + ")"; break;
+            case SchemaProperty.JAVA_FLOAT:
+                expr = CONVERTER + ".lexFloat(" + literal + ")"; break;
+            case SchemaProperty.JAVA_DOUBLE:
+                expr = CONVERTER + ".lexDouble(" + literal + ")"; break;
+            case SchemaProperty.JAVA_BYTE:
+                expr = CONVERTER + ".lexByte(" + literal + ")"; break;
+            case SchemaProperty.JAVA_SHORT:
+                expr = CONVERTER + ".lexShort(" + literal + ")"; break;
+            case SchemaProperty.JAVA_INT:
+                expr = CONVERTER + ".lexInt(" + literal + ")"; break;
+            case SchemaProperty.JAVA_LONG:
+                expr = CONVERTER + ".lexLong(" + literal + ")"; break;
+            case SchemaProperty.JAVA_BIG_DECIMAL:
+                expr = CONVERTER + ".lexDecimal(" + literal + ")"; break;
+            case SchemaProperty.JAVA_BIG_INTEGER:
+                expr = CONVERTER + ".lexInteger(" + literal + ")"; break;
+            case SchemaProperty.JAVA_GDATE:
+                expr = "new org.apache.xmlbeans.GDate(" + literal + ")"; break;
+            case SchemaProperty.JAVA_GDURATION:
+                expr = "new org.apache.xmlbeans.GDuration(" + literal + ")"; break;
+            default:
+                expr = literal; break;
+        }
+
+        emit("private static final " + p.javaType + " " + defaultConstant(p) + " = " + box(p, expr) + ";");
+    }
+
+    void printField(Prop p) throws IOException
+    {
+        emit("private " + fieldType(p) + " " + p.field +
+            (hasDefault(p) ? " = " + defaultConstant(p) : "") + ";");
+    }
+
+    void printAccessors(Prop p) throws IOException
+    {
+        String what = (p.property == null ? "the simple content" :
+            (p.array ? "array of all \"" : "the \"") + p.property.getName().getLocalPart() + "\" " +
+            (p.property.isAttribute() ? "attribute" : "element") + (p.array ? "s" : ""));
+
+        emit("/**");
+        emit(" * Gets " + what);
+        emit(" */");
+        emit("public " + fieldType(p) + " get" + p.name + (p.array ? "Array" : "") + "()");
+        emit("{");
+        indent();
+        emit("return " + p.field + ";");
+        outdent();
+        emit("}");
+        emit("");
+        emit("/**");
+        emit(" * Sets " + what);
+        emit(" */");
+        emit("public void set" + p.name + (p.array ? "Array" : "") + "(" + fieldType(p) + " " + p.param + ")");
+        emit("{");
+        indent();
+        emit("this." + p.field + " = " + p.param + ";");
+        outdent();
+        emit("}");
+        emit("");
+    }
+
+    String box(Prop p, String expr)
+    {
+        if (!p.boxed)
+            return expr;
+        String boxType = p.javaType;
+        return boxType + ".valueOf(" + expr + ")";
+    }
+
+    String unbox(Prop p, String expr)
+    {
+        if (!p.boxed)
+            return expr;
+        return expr + "." + primitiveName(p.code) + "Value()";
+    }
+
+    static String primitiveName(int code)
+    {
+        switch (code)
+        {
+            case SchemaProperty.JAVA_BOOLEAN: return "boolean";
+            case SchemaProperty.JAVA_FLOAT: return "float";
+            case SchemaProperty.JAVA_DOUBLE: return "double";
+            case SchemaProperty.JAVA_BYTE: return "byte";
+            case SchemaProperty.JAVA_SHORT: return "short";
+            case SchemaProperty.JAVA_INT: return "int";
+            case SchemaProperty.JAVA_LONG: return "long";
+            default: throw new IllegalStateException();
+        }
+    }
+
+    String wsConstant(int wsr)
+    {
+        switch (wsr)
+        {
+            case SchemaType.WS_REPLACE:
+                return READER + ".WS_REPLACE";
+            case SchemaType.WS_COLLAPSE:
+                return READER + ".WS_COLLAPSE";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The expression reading the value of a simple property from the
+     * element the reader is on, or from its attribute number i.
+     */
+    String readValue(Prop p, boolean attr)
+    {
+        String get = (attr ? "reader.getAttribute" : "reader.get");
+        String index = (attr ? "i" : "");
+        String sep = (attr ? ", " : "");
+        String expr;
+
+        switch (p.code)
+        {
+            case SchemaProperty.JAVA_BOOLEAN:
+                expr = get + "BooleanValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_FLOAT:
+                expr = get + "FloatValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_DOUBLE:
+                expr = get + "DoubleValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_BYTE:
+                expr = get + "ByteValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_SHORT:
+                expr = get + "ShortValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_INT:
+                expr = get + "IntValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_LONG:
+                expr = get + "LongValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_BIG_DECIMAL:
+                expr = get + "BigDecimalValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_BIG_INTEGER:
+                expr = get + "BigIntegerValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_GDATE:
+                expr = get + "GDateValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_GDURATION:
+                expr = get + "GDurationValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_QNAME:
+                expr = get + "QNameValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_CALENDAR:
+                expr = get + "CalendarValue(" + index + ")"; break;
+            case SchemaProperty.JAVA_BYTE_ARRAY:
+                expr = CONVERTER + (p.btc == SchemaType.BTC_HEX_BINARY ? ".lexHexBinary(" : ".lexBase64Binary(") +
+                    get + "StringValue(" + index + sep + READER + ".WS_COLLAPSE))";
+                break;
+            default:
+                String ws = wsConstant(p.wsr);
+                expr = get + "StringValue(" + index + (ws == null ? "" : sep + ws) + ")";
+                break;
+        }
+
+        return box(p, expr);
+    }
+
+    /**
+     * The expression printing the lexical form of a simple value, in an
+     * element where the namespace inScope is the default one.
+     */
+    String printValue(Prop p, String value, String inScope)
+    {
+        value = unbox(p, value);
+
+        switch (p.code)
+        {
+            case SchemaProperty.JAVA_BOOLEAN:
+                return CONVERTER + ".printBoolean(" + value + ")";
+            case SchemaProperty.JAVA_FLOAT:
+                return CONVERTER + ".printFloat(" + value + ")";
+            case SchemaProperty.JAVA_DOUBLE:
+                return CONVERTER + ".printDouble(" + value + ")";
+            case SchemaProperty.JAVA_BYTE:
+                return CONVERTER + ".printByte(" + value + ")";
+            case SchemaProperty.JAVA_SHORT:
+                return CONVERTER + ".printShort(" + value + ")";
+            case SchemaProperty.JAVA_INT:
+                return CONVERTER + ".printInt(" + value + ")";
+            case SchemaProperty.JAVA_LONG:
+                return CONVERTER + ".printLong(" + value + ")";
+            case SchemaProperty.JAVA_BIG_DECIMAL:
+                return CONVERTER + ".printDecimal(" + value + ")";
+            case SchemaProperty.JAVA_BIG_INTEGER:
+                return CONVERTER + ".printInteger(" + value + ")";
+            case SchemaProperty.JAVA_GDATE:
+            case SchemaProperty.JAVA_GDURATION:
+                return value + ".toString()";
+            case SchemaProperty.JAVA_QNAME:
+                return SUPPORT + ".printQName(writer, " + value + ", " + inScope + ")";
+            case SchemaProperty.JAVA_CALENDAR:
+                return SUPPORT + ".printCalendar(" + value + ", " + p.btc + ")";
+            case SchemaProperty.JAVA_BYTE_ARRAY:
+                return CONVERTER + (p.btc == SchemaType.BTC_HEX_BINARY ? ".printHexBinary(" : ".printBase64Binary(") +
+                    value + ").toString()";
+            default:
+                return value;
+        }
+    }
+
+    boolean isPrimitive(Prop p)
+    {
+        return p.code != SchemaProperty.XML_OBJECT && !p.boxed &&
+            p.code >= SchemaProperty.JAVA_FIRST_PRIMITIVE && p.code <= SchemaProperty.JAVA_LAST_PRIMITIVE;
+    }
+
+    String nameTest(QName name, String local, String uri)
+    {
+        return encodeLiteral(name.getLocalPart()) + ".equals(" + local + ") && " +
+            encodeLiteral(name.getNamespaceURI()) + ".equals(" + uri + ")";
+    }
+
+    String encodeLiteral(String s)
+    {
+        return SchemaTypeCodePrinter.encodeString(s);
+    }
+
+    /**
+     * Prints the statements which read the element the reader is on into
+     * the value of a property, leaving the reader on the end of that
+     * element.
+     */
+    void printReadElement(Prop p, String target) throws IOException
+    {
+        SchemaProperty prop = p.property;
+        String value = (p.code == SchemaProperty.XML_OBJECT ?
+            p.javaType + ".read(reader)" : readValue(p, false));
+
+        if (p.nillable)
+        {
+            emit("if (" + SUPPORT + ".isNil(reader))");
+            emit("{");
+            indent();
+            emit(SUPPORT + ".skipElement(reader);");
+            if (p.array)
+                printAdd(p, "null");
+            outdent();
+            emit("}");
+            emit("else");
+        }
+        emit("{");
+        indent();
+        if (p.code != SchemaProperty.XML_OBJECT &&
+            prop.hasDefault() != SchemaProperty.NEVER && prop.getDefaultText() != null)
+            emit("reader.setDefaultValue(" + encodeLiteral(prop.getDefaultText()) + ");");
+        if (p.array)
+            printAdd(p, value);
+        else
+            emit(target + " = " + value + ";");
+        outdent();
+        emit("}");
+    }
+
+    void printAdd(Prop p, String value) throws IOException
+    {
+        String array = p.param + "Array";
+        String count = p.param + "Count";
+
+        emit("if (" + count + " == " + array + ".length)");
+        emit("{");
+        indent();
+        emit(p.javaType + "[] grown = new " + newArray(p, count + " * 2 + 4") + ";");
+        emit("java.lang.System.arraycopy(" + array + ", 0, grown, 0, " + count + ");");
+        emit(array + " = grown;");
+        outdent();
+        emit("}");
+        emit(array + "[" + count + "++] = " + value + ";");
+    }
+
+    /**
+     * The expression creating an array of the property, of the given length.
+     */
+    String newArray(Prop p, String length)
+    {
+        // the brackets go in front of the dimensions of an array of arrays
+        String type = p.javaType;
+        if (type.endsWith("[]"))
+            return type.substring(0, type.length() - 2) + "[" + length + "][]";
+        return type + "[" + length + "]";
+    }
+
+    void printReadWrite(SchemaType sType, Prop[] props, Prop value) throws IOException
+    {
+        String shortName = sType.getShortJavaName();
+
+        emit("/**");
+        emit(" * Reads an instance from the element the reader is on, and leaves");
+        emit(" * the reader on the end of that element.");
+        emit(" */");
+        emit("public static " + shortName + " read(" + READER + " reader)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        indent();
+        emit(shortName + " result = new " + shortName + "();");
+
+        boolean hasAttrs = false;
+        boolean hasElts = false;
+        for (int i = 0; i < props.length; i++)
+        {
+            if (props[i].property.isAttribute())
+                hasAttrs = true;
+            else
+            {
+                hasElts = true;
+                if (props[i].array)
+                    emit(props[i].javaType + "[] " + props[i].param + "Array = new " +
+                        newArray(props[i], "0") + "; int " + props[i].param + "Count = 0;");
+            }
+        }
+
+        if (hasAttrs)
+        {
+            emit("");
+            emit("for (int i = 0, n = reader.getAttributeCount(); i < n; i++)");
+            emit("{");
+            indent();
+            emit("java.lang.String local = reader.getAttributeLocalName(i);");
+            emit("java.lang.String uri = reader.getAttributeNamespace(i);");
+            emit("if (uri == null)");
+            emit("    uri = \"\";");
+            boolean first = true;
+            for (int i = 0; i < props.length; i++)
+            {
+                if (!props[i].property.isAttribute())
+                    continue;
+                emit((first ? "if (" : "else if (") + nameTest(props[i].property.getName(), "local", "uri") + ")");
+                emit("    result." + props[i].field + " = " + readValue(props[i], true) + ";");
+                first = false;
+            }
+            outdent();
+            emit("}");
+        }
+
+        emit("");
+        if (value != null)
+            emit("result." + value.field + " = " + readValue(value, false) + ";");
+        else
+        {
+            emit("for (int event = reader.next(); event != " + READER + ".END_ELEMENT; event = reader.next())");
+            emit("{");
+            indent();
+            emit("if (event != " + READER + ".START_ELEMENT)");
+            emit("    continue;");
+            if (hasElts)
+            {
+                emit("java.lang.String local = reader.getLocalName();");
+                emit("java.lang.String uri = " + SUPPORT + ".namespaceOf(reader);");
+            }
+            boolean first = true;
+            for (int i = 0; i < props.length; i++)
+            {
+                if (props[i].property.isAttribute())
+                    continue;
+                emit((first ? "if (" : "else if (") + acceptTest(props[i].property) + ")");
+                printReadElement(props[i], "result." + props[i].field);
+                first = false;
+            }
+            if (first)
+                emit(SUPPORT + ".skipElement(reader);");
+            else
+            {
+                emit("else");
+                emit("    " + SUPPORT + ".skipElement(reader);");
+            }
+            outdent();
+            emit("}");
+
+            for (int i = 0; i < props.length; i++)
+            {
+                Prop p = props[i];
+                if (!p.array || p.property.isAttribute())
+                    continue;
+                emit("");
+                emit("if (" + p.param + "Count != " + p.param + "Array.length)");
+                emit("{");
+                indent();
+                emit("result." + p.field + " = new " + newArray(p, p.param + "Count") + ";");
+                emit("java.lang.System.arraycopy(" + p.param + "Array, 0, result." + p.field + ", 0, " + p.param + "Count);");
+                outdent();
+                emit("}");
+                emit("else");
+                emit("    result." + p.field + " = " + p.param + "Array;");
+            }
+        }
+        emit("return result;");
+        outdent();
+        emit("}");
+        emit("");
+
+        emit("/**");
+        emit(" * Writes the attributes and the content of this object into the");
+        emit(" * element the writer has just started, in whose scope ns is the");
+        emit(" * default namespace.");
+        emit(" */");
+        emit("public void write(" + WRITER + " writer, java.lang.String ns)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        indent();
+        for (int i = 0; i < props.length; i++)
+        {
+            Prop p = props[i];
+            if (!p.property.isAttribute())
+                continue;
+            QName name = p.property.getName();
+            String call = SUPPORT + ".writeAttribute(writer, " + encodeLiteral(name.getNamespaceURI()) + ", " +
+                encodeLiteral(name.getLocalPart()) + ", " + printValue(p, "this." + p.field, "ns") + ");";
+            if (isPrimitive(p))
+                emit(call);
+            else
+            {
+                emit("if (this." + p.field + " != null)");
+                emit("    " + call);
+            }
+        }
+        if (value != null)
+        {
+            if (isPrimitive(value))
+                emit("writer.writeCharacters(" + printValue(value, "this." + value.field, "ns") + ");");
+            else
+            {
+                emit("if (this." + value.field + " != null)");
+                emit("    writer.writeCharacters(" + printValue(value, "this." + value.field, "ns") + ");");
+            }
+        }
+        for (int i = 0; i < props.length; i++)
+        {
+            Prop p = props[i];
+            if (p.property.isAttribute())
+                continue;
+            if (p.array)
+            {
+                emit("if (this." + p.field + " != null)");
+                emit("{");
+                indent();
+                emit("for (int i = 0; i < this." + p.field + ".length; i++)");
+                emit("{");
+                indent();
+                printWriteElement(p, "this." + p.field + "[i]");
+                outdent();
+                emit("}");
+                outdent();
+                emit("}");
+            }
+            else
+                printWriteElement(p, "this." + p.field);
+        }
+        outdent();
+        emit("}");
+    }
+
+    String acceptTest(SchemaProperty prop)
+    {
+        QName[] names = prop.acceptedNames();
+        if (names == null || names.length == 0)
+            names = new QName[] { prop.getName() };
+
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < names.length; i++)
+        {
+            if (i > 0)
+                sb.append(" || ");
+            if (names.length > 1)
+                sb.append('(');
+            sb.append(nameTest(names[i], "local", "uri"));
+            if (names.length > 1)
+                sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints the statements writing one value of an element property.
+     */
+    void printWriteElement(Prop p, String value) throws IOException
+    {
+        QName name = p.property.getName();
+        String uri = encodeLiteral(name.getNamespaceURI());
+        String local = encodeLiteral(name.getLocalPart());
+
+        if (!isPrimitive(p))
+        {
+            if (p.nillable && p.array)
+            {
+                emit("if (" + value + " == null)");
+                emit("    " + SUPPORT + ".writeNilElement(writer, " + uri + ", " + local + ", ns);");
+                emit("else");
+            }
+            else
+                emit("if (" + value + " != null)");
+        }
+        emit("{");
+        indent();
+        emit(SUPPORT + ".writeStartElement(writer, " + uri + ", " + local + ", ns);");
+        if (p.code == SchemaProperty.XML_OBJECT)
+            emit(value + ".write(writer, " + uri + ");");
+        else
+            emit("writer.writeCharacters(" + printValue(p, value, uri) + ");");
+        emit("writer.writeEndElement();");
+        outdent();
+        emit("}");
+    }
+
+    void printDocumentReadWrite(SchemaType sType, Prop[] props) throws IOException
+    {
+        String shortName = sType.getShortJavaName();
+        QName name = sType.getDocumentElementName();
+        Prop p = (props.length == 1 ? props[0] : null);
+
+        emit("/**");
+        emit(" * Reads an instance from the next element of the reader, which must");
+        emit(" * be " + SchemaTypeCodePrinter.prettyQName(name) + ", and leaves the reader on the end of");
+        emit(" * that element.");
+        emit(" */");
+        emit("public static " + shortName + " read(" + READER + " reader)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        indent();
+        emit(shortName + " result = new " + shortName + "();");
+        emit(SUPPORT + ".toElement(reader, " + encodeLiteral(name.getNamespaceURI()) + ", " +
+            encodeLiteral(name.getLocalPart()) + ");");
+        if (p != null)
+            printReadElement(p, "result." + p.field);
+        else
+            emit(SUPPORT + ".skipElement(reader);");
+        emit("return result;");
+        outdent();
+        emit("}");
+        emit("");
+
+        emit("/**");
+        emit(" * Parses an instance from a reader.");
+        emit(" */");
+        emit("public static " + shortName + " parse(javax.xml.stream.XMLStreamReader reader)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        emit("    return read(" + SUPPORT + ".toExt(reader));");
+        emit("}");
+        emit("");
+        printParseFrom(shortName, "java.io.InputStream");
+        printParseFrom(shortName, "java.io.Reader");
+
+        emit("/**");
+        emit(" * Writes the document element.");
+        emit(" */");
+        emit("public void write(" + WRITER + " writer)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        emit("    write(writer, \"\");");
+        emit("}");
+        emit("");
+
+        emit("/**");
+        emit(" * Writes the document element where ns is the default namespace.");
+        emit(" */");
+        emit("public void write(" + WRITER + " writer, java.lang.String ns)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        indent();
+        if (p != null)
+            printWriteElement(p, "this." + p.field);
+        outdent();
+        emit("}");
+    }
+
+    void printParseFrom(String shortName, String source) throws IOException
+    {
+        emit("/**");
+        emit(" * Parses an instance from " + (source.endsWith("Stream") ? "a stream." : "characters."));
+        emit(" */");
+        emit("public static " + shortName + " parse(" + source + " in)");
+        emit("    throws " + EXCEPTION);
+        emit("{");
+        indent();
+        emit(READER + " reader = " + SUPPORT + ".newReader(in);");
+        emit("try");
+        emit("{");
+        emit("    return read(reader);");
+        emit("}");
+        emit("finally");
+        emit("{");
+        emit("    reader.close();");
+        emit("}");
+        outdent();
+        emit("}");
+        emit("");
+    }
+}
@@ -24,8 +24,10 @@ import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.TreeMap;
 
 import javax.xml.namespace.QName;
 import org.apache.xmlbeans.impl.common.NameUtil;
@@ -48,6 +50,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
     Writer _writer;
     int    _indent;
     boolean _useJava15;
+    boolean _unsyncPath;
 
 
     static final String LINE_SEPARATOR =
@@ -106,6 +109,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             genversion = XmlOptions.GENERATE_JAVA_14;
 
         _useJava15 = XmlOptions.GENERATE_JAVA_15.equals(genversion);
+
+        _unsyncPath = XmlOptions.hasOption(opt, XmlOptions.GENERATE_UNSYNCHRONIZED_PATH);
     }
 
     void indent()
@@ -118,7 +123,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         _indent -= INDENT_INCREMENT;
     }
 
-    String encodeString ( String s )
+    static String encodeString ( String s )
     {
         StringBuffer sb = new StringBuffer();
 
@@ -187,7 +192,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         // System.out.println(s);
     }
 
-    private static String makeSafe(String s)
+    static String makeSafe(String s)
     {
         Charset charset = Charset.forName(System.getProperty("file.encoding"));
         if (charset == null)
@@ -423,6 +428,16 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                         prop.extendsJavaSingleton()
                     );
                 }
+
+                if (hasStreamAccessors(prop))
+                {
+                    printStreamAccessors(
+                        prop.getName(),
+                        prop.isAttribute(),
+                        prop.getJavaPropertyName(),
+                        prop.isReadOnly()
+                    );
+                }
             }
 
         }
@@ -1238,6 +1253,45 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         }
     }
 
+    /**
+     * Returns true if the binary property gets the accessors which read and
+     * set its value as a stream of bytes.  These are left out for a type
+     * which has a property of the same name as them.
+     */
+    static boolean hasStreamAccessors(SchemaProperty prop)
+    {
+        if (prop.getJavaTypeCode() != SchemaProperty.JAVA_BYTE_ARRAY ||
+                !prop.extendsJavaSingleton() || xmlTypeForPropertyIsUnion(prop))
+            return false;
+
+        String streamName = prop.getJavaPropertyName() + "Stream";
+        SchemaProperty[] props = prop.getContainerType().getProperties();
+        for (int i = 0; i < props.length; i++)
+        {
+            if (props[i].getJavaPropertyName().equals(streamName))
+                return false;
+        }
+
+        return true;
+    }
+
+    void printStreamAccessors(QName qName, boolean isAttr,
+                       String propertyName, boolean readOnly)
+       throws IOException
+    {
+        String propdesc = "\"" + qName.getLocalPart() + "\"" + (isAttr ? " attribute" : " element");
+
+        printJavaDoc("Gets the bytes of the " + propdesc + " as a stream, decoded as it is read");
+        emit("java.io.InputStream get" + propertyName + "Stream();");
+
+        if (!readOnly)
+        {
+            printJavaDoc("Sets the " + propdesc + " to the bytes read from the stream");
+            emit("void set" + propertyName + "Stream(java.io.InputStream " +
+                NameUtil.lowerCamelCase(propertyName) + "Stream) throws java.io.IOException;");
+        }
+    }
+
     void printPropertySetters(QName qName, boolean isAttr,
                        String propertyName, int javaType, String type, String xtype,
                        boolean nillable, boolean optional,
@@ -1847,7 +1901,123 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         return results;
     }
 
-    void emitImplementationPreamble() throws IOException
+    static final String[] NO_PARAMS = new String[0];
+
+    /**
+     * Prints get_element_ordinal(), which numbers the element properties
+     * the class declares, so that the store finds the child elements by
+     * ordinal.  The names are told apart by the hash of their local part
+     * first, with one case for each hash.
+     */
+    void printElementOrdinals(SchemaProperty[] properties, Map qNameMap) throws IOException
+    {
+        Map cases = new TreeMap();
+        int count = 0;
+
+        for (int i = 0; i < properties.length; i++)
+        {
+            if (properties[i].isAttribute())
+                continue;
+
+            QName name = properties[i].getName();
+            Integer hash = new Integer(name.getLocalPart().hashCode());
+            List names = (List)cases.get(hash);
+            if (names == null)
+                cases.put(hash, names = new ArrayList());
+            names.add(new Object[] { getIdentifier(qNameMap, name), new Integer(count++) });
+        }
+
+        if (count == 0)
+            return;
+
+        emit("private static final int ORDINAL$BASE = new_element_ordinals(" + count + ");");
+        emit("");
+        emit("public int get_element_ordinal(javax.xml.namespace.QName name)");
+        startBlock();
+        emit("switch (name.getLocalPart().hashCode())");
+        startBlock();
+        for (Iterator i = cases.entrySet().iterator(); i.hasNext(); )
+        {
+            Map.Entry e = (Map.Entry)i.next();
+            emit("case " + e.getKey() + ":");
+            indent();
+            for (Iterator j = ((List)e.getValue()).iterator(); j.hasNext(); )
+            {
+                Object[] name = (Object[])j.next();
+                emit("if (name.equals(" + name[0] + "))");
+                emit("    return ORDINAL$BASE + " + name[1] + ";");
+            }
+            emit("break;");
+            outdent();
+        }
+        endBlock();
+        emit("return super.get_element_ordinal(name);");
+        endBlock();
+        emit("");
+    }
+
+    /**
+     * Starts the body of the accessor named name, whose opening brace was
+     * just printed.  With -nosyncpath the accessor calls a private
+     * name$impl method, directly when preCheck() finds the store
+     * unsynchronized and under the monitor() otherwise, and the body
+     * becomes that of name$impl.
+     */
+    void emitImplementationPreamble(String returnType, String name,
+        String[] paramTypes, String[] paramNames) throws IOException
+    {
+        emitImplementationPreamble(returnType, name, paramTypes, paramNames, null);
+    }
+
+    void emitImplementationPreamble(String returnType, String name,
+        String[] paramTypes, String[] paramNames, String exception) throws IOException
+    {
+        if (!_unsyncPath)
+        {
+            emitSynchronizedPreamble();
+            return;
+        }
+
+        StringBuffer params = new StringBuffer();
+        StringBuffer args = new StringBuffer();
+        for (int i = 0; i < paramNames.length; i++)
+        {
+            if (i > 0)
+            {
+                params.append(", ");
+                args.append(", ");
+            }
+            params.append(paramTypes[i] + " " + paramNames[i]);
+            args.append(paramNames[i]);
+        }
+
+        String call = ("void".equals(returnType) ? "" : "return ") +
+            name + "$impl(" + args + ");";
+        emit("if (preCheck())");
+        emit("    " + call);
+        emit("else synchronized (monitor())");
+        emit("{");
+        emit("    " + call);
+        emit("}");
+        endBlock();
+        emit("");
+        emit("private " + returnType + " " + name + "$impl(" + params + ")" +
+            (exception == null ? "" : " throws " + exception));
+        startBlock();
+        emit("check_orphaned();");
+    }
+
+    /**
+     * Ends the body started by emitImplementationPreamble().  The brace
+     * printed next closes the accessor, or name$impl with -nosyncpath.
+     */
+    void emitImplementationPostamble() throws IOException
+    {
+        if (!_unsyncPath)
+            emitSynchronizedPostamble();
+    }
+
+    void emitSynchronizedPreamble() throws IOException
     {
         emit("synchronized (monitor())");
         emit("{");
@@ -1855,7 +2025,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         emit("check_orphaned();");
     }
 
-    void emitImplementationPostamble() throws IOException
+    void emitSynchronizedPostamble() throws IOException
     {
         outdent();
         emit("}");
@@ -1945,6 +2115,76 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
     private static final int ADD_NEW_VALUE = 3;
     private static final int THROW_EXCEPTION = 4;
 
+    /**
+     * For properties of the primitive java types, prints code which reads
+     * the value straight from the text of the store, without creating a
+     * TypeStoreUser for it.  When the store can't give the text, or the
+     * text is not a valid value, the code printed by emitGetTarget and
+     * printJGetValue runs as usual.
+     */
+    void emitGetFromChars(SchemaProperty prop, int javaType,
+                          String setIdentifier, String identifier,
+                          boolean isAttr, String index)
+        throws IOException
+    {
+        String lexer;
+
+        switch (javaType)
+        {
+            case SchemaProperty.JAVA_BOOLEAN:
+                lexer = "lexBoolean"; break;
+            case SchemaProperty.JAVA_FLOAT:
+                lexer = "lexFloat"; break;
+            case SchemaProperty.JAVA_DOUBLE:
+                lexer = "lexDouble"; break;
+            case SchemaProperty.JAVA_BYTE:
+                lexer = "lexByte"; break;
+            case SchemaProperty.JAVA_SHORT:
+                lexer = "lexShort"; break;
+            case SchemaProperty.JAVA_INT:
+                lexer = "lexInt"; break;
+            case SchemaProperty.JAVA_LONG:
+                lexer = "lexLong"; break;
+            default:
+                return;
+        }
+
+        String wsr;
+
+        switch (prop.getType().getWhiteSpaceRule())
+        {
+            case SchemaType.WS_PRESERVE:
+                wsr = "org.apache.xmlbeans.impl.values.TypeStore.WS_PRESERVE"; break;
+            case SchemaType.WS_REPLACE:
+                wsr = "org.apache.xmlbeans.impl.values.TypeStore.WS_REPLACE"; break;
+            case SchemaType.WS_COLLAPSE:
+                wsr = "org.apache.xmlbeans.impl.values.TypeStore.WS_COLLAPSE"; break;
+            default:
+                return;
+        }
+
+        // a substitution group member may be of another type
+        if (!setIdentifier.equals(identifier))
+            return;
+
+        if (isAttr)
+            emit("java.lang.CharSequence text = get_store().find_attribute_chars(" + identifier + ", " + wsr + ");");
+        else
+            emit("java.lang.CharSequence text = get_store().find_element_chars(" + identifier + ", " + index + ", " + wsr + ");");
+
+        emit("if (text != null)");
+        startBlock();
+        emit("try");
+        startBlock();
+        emit("return org.apache.xmlbeans.impl.util.XsTypeConverter." + lexer + "(text);");
+        endBlock();
+        emit("catch (java.lang.RuntimeException e)");
+        startBlock();
+        emit("// not a valid value, the error comes from the target");
+        endBlock();
+        endBlock();
+    }
+
     void emitGetTarget(String setIdentifier,
                        String identifier,
                        boolean isAttr,
@@ -2061,11 +2301,13 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
 
         emit("");
 
-        emitImplementationPreamble();
+        // The local class can't be seen from a separate method, so this
+        // body is always synchronized
+        emitSynchronizedPreamble();
 
         emit("return new " + listName + "();");
 
-        emitImplementationPostamble();
+        emitSynchronizedPostamble();
         endBlock();
     }
 
@@ -2087,7 +2329,10 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc((several ? "Gets first " : "Gets the ") + propdesc);
             emit("public " + type + " get" + propertyName + "()");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble(type, "get" + propertyName, NO_PARAMS, NO_PARAMS);
+
+            if (!isunion)
+                emitGetFromChars(prop, javaType, setIdentifier, identifier, isAttr, "0");
 
             emitGetTarget(setIdentifier, identifier, isAttr, "0", NOTHING, jtargetType);
 
@@ -2118,7 +2363,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc((several ? "Gets (as xml) first " : "Gets (as xml) the ") + propdesc);
                 emit("public " + xtype + " xget" + propertyName + "()");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble(xtype, "xget" + propertyName, NO_PARAMS, NO_PARAMS);
                 emitGetTarget(setIdentifier, identifier, isAttr, "0", NOTHING, xtype);
 
                 if (isAttr && (prop.hasDefault() == SchemaProperty.CONSISTENTLY ||
@@ -2141,7 +2386,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc((several ? "Tests for nil first " : "Tests for nil ") + propdesc);
                 emit("public boolean isNil" + propertyName + "()");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("boolean", "isNil" + propertyName, NO_PARAMS, NO_PARAMS);
                 emitGetTarget(setIdentifier, identifier, isAttr, "0", NOTHING, xtype);
 
                 emit("if (target == null) return false;");
@@ -2158,7 +2403,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             emit("public boolean isSet" + propertyName + "()");
 
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble("boolean", "isSet" + propertyName, NO_PARAMS, NO_PARAMS);
 
             if (isAttr)
                 emit("return get_store().find_attribute_user(" + identifier +") != null;");
@@ -2198,7 +2443,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Gets array of all " + propdesc + "s");
             emit("public " + type + "[] get" + arrayName + "()");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble(type + "[]", "get" + arrayName, NO_PARAMS, NO_PARAMS);
 
             if (_useJava15)
                 emit("java.util.List<" + xtype + "> targetList = new java.util.ArrayList<" + xtype + ">();");
@@ -2215,7 +2460,10 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc("Gets ith " + propdesc);
             emit("public " + type + " get" + arrayName + "(int i)");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble(type, "get" + arrayName, new String[] { "int" }, new String[] { "i" });
+
+            if (!isunion)
+                emitGetFromChars(prop, javaType, setIdentifier, identifier, isAttr, "i");
 
             emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, jtargetType);
             printJGetValue(javaType, type, (SchemaTypeImpl)prop.getType());
@@ -2244,7 +2492,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                     printJavaDoc("Gets (as xml) array of all " + propdesc + "s");
                 emit("public " + xtype + "[] xget" + arrayName + "()");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble(xtype + "[]", "xget" + arrayName, NO_PARAMS, NO_PARAMS);
                 if (_useJava15)
                     emit("java.util.List<" + xtype +  "> targetList = new java.util.ArrayList<" + xtype +  ">();");
                 else
@@ -2260,7 +2508,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Gets (as xml) ith " + propdesc);
                 emit("public " + xtype + " xget" + arrayName + "(int i)");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble(xtype, "xget" + arrayName,
+                    new String[] { "int" }, new String[] { "i" });
                 emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, xtype);
                 emit("return target;");
                 emitImplementationPostamble();
@@ -2274,7 +2523,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Tests for nil ith " + propdesc);
                 emit("public boolean isNil" + arrayName + "(int i)");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("boolean", "isNil" + arrayName,
+                    new String[] { "int" }, new String[] { "i" });
                 emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, xtype);
                 emit("return target.isNil();");
                 emitImplementationPostamble();
@@ -2285,7 +2535,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc("Returns number of " + propdesc);
             emit("public int sizeOf" + arrayName + "()");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble("int", "sizeOf" + arrayName, NO_PARAMS, NO_PARAMS);
             emit("return get_store().count_elements(" + setIdentifier +");");
             emitImplementationPostamble();
             endBlock();
@@ -2323,7 +2573,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             }
             else
             {
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "set" + propertyName,
+                    new String[] { type }, new String[] { safeVarName });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, several ? "0" : "-1");
                 emitGetTarget(setIdentifier, identifier, isAttr, "0", ADD_NEW_VALUE, jtargetType);
                 printJSetValue(javaType, safeVarName, (SchemaTypeImpl)prop.getType());
@@ -2338,7 +2589,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc((several ? "Sets (as xml) first " : "Sets (as xml) the ") + propdesc);
                 emit("public void xset" + propertyName + "(" + xtype + " " + safeVarName + ")");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "xset" + propertyName,
+                    new String[] { xtype }, new String[] { safeVarName });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, several ? "0" : "-1");
                 emitGetTarget(setIdentifier, identifier, isAttr, "0", ADD_NEW_VALUE, xtype);
                 emit("target.set(" + safeVarName + ");");
@@ -2354,7 +2606,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Appends and returns a new empty " + propdesc);
                 emit("public " + xtype + " addNew" + propertyName + "()");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble(xtype, "addNew" + propertyName, NO_PARAMS, NO_PARAMS);
                 emitDeclareTarget(true, xtype);
   	            emitPre(sType, PrePostExtension.OPERATION_INSERT, identifier, isAttr);
                 emitAddTarget(identifier, isAttr, true, xtype);
@@ -2369,7 +2621,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc((several ? "Nils the first " : "Nils the ") + propdesc);
                 emit("public void setNil" + propertyName + "()");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "setNil" + propertyName, NO_PARAMS, NO_PARAMS);
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, several ? "0" : "-1");
                 emitGetTarget(setIdentifier, identifier, isAttr, "0", ADD_NEW_VALUE, xtype);
                 emit("target.setNil();");
@@ -2384,7 +2636,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc((several ? "Removes first " : "Unsets the ") + propdesc);
             emit("public void unset" + propertyName + "()");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble("void", "unset" + propertyName, NO_PARAMS, NO_PARAMS);
             emitPre(sType, PrePostExtension.OPERATION_REMOVE, identifier, isAttr, several ? "0" : "-1");
             if (isAttr)
                 emit("get_store().remove_attribute(" + identifier + ");");
@@ -2433,7 +2685,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Sets array of all " + propdesc );
                 emit("public void set" + arrayName + "(" + type + "[] " + safeVarName + "Array)");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "set" + arrayName,
+                    new String[] { type + "[]" }, new String[] { safeVarName + "Array" });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr);
 
                 if (isobj)
@@ -2487,7 +2740,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             }
             else
             {
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "set" + arrayName,
+                    new String[] { "int", type }, new String[] { "i", safeVarName });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, "i");
                 emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, jtargetType);
                 printJSetValue(javaType, safeVarName, (SchemaTypeImpl)prop.getType());
@@ -2501,7 +2755,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Sets (as xml) array of all " + propdesc);
                 emit("public void xset" + arrayName + "(" + xtype + "[]" + safeVarName + "Array)");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "xset" + arrayName,
+                    new String[] { xtype + "[]" }, new String[] { safeVarName + "Array" });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr);
                 emit("arraySetterHelper(" + safeVarName + "Array" + ", " + identifier + ");" );
                 emitPost(sType, PrePostExtension.OPERATION_SET, identifier, isAttr);
@@ -2511,7 +2766,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Sets (as xml) ith " + propdesc);
                 emit("public void xset" + arrayName + "(int i, " + xtype + " " + safeVarName + ")");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "xset" + arrayName,
+                    new String[] { "int", xtype }, new String[] { "i", safeVarName });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, "i");
                 emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, xtype);
                 emit("target.set(" + safeVarName + ");");
@@ -2525,7 +2781,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Nils the ith " + propdesc);
                 emit("public void setNil" + arrayName + "(int i)");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "setNil" + arrayName,
+                    new String[] { "int" }, new String[] { "i" });
                 emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, "i");
                 emitGetTarget(setIdentifier, identifier, isAttr, "i", THROW_EXCEPTION, xtype);
                 emit("target.setNil();");
@@ -2539,7 +2796,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Inserts the value as the ith " + propdesc);
                 emit("public void insert" + propertyName + "(int i, " + type + " " + safeVarName + ")");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "insert" + propertyName,
+                    new String[] { "int", type }, new String[] { "i", safeVarName });
                 emitPre(sType, PrePostExtension.OPERATION_INSERT, identifier, isAttr, "i");
                 emit(jtargetType + " target = ");
                 indent();
@@ -2557,7 +2815,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
                 printJavaDoc("Appends the value as the last " + propdesc);
                 emit("public void add" + propertyName + "(" + type + " " + safeVarName + ")");
                 startBlock();
-                emitImplementationPreamble();
+                emitImplementationPreamble("void", "add" + propertyName,
+                    new String[] { type }, new String[] { safeVarName });
                 emitDeclareTarget(true, jtargetType);
   	            emitPre(sType, PrePostExtension.OPERATION_INSERT, identifier, isAttr);
                 emitAddTarget(identifier, isAttr, true, jtargetType);
@@ -2570,7 +2829,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc("Inserts and returns a new empty value (as xml) as the ith " + propdesc);
             emit("public " + xtype + " insertNew" + propertyName + "(int i)");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble(xtype, "insertNew" + propertyName,
+                new String[] { "int" }, new String[] { "i" });
             emitDeclareTarget(true, xtype);
             emitPre(sType, PrePostExtension.OPERATION_INSERT, identifier, isAttr, "i");
             if (!isSubstGroup)
@@ -2590,7 +2850,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc("Appends and returns a new empty value (as xml) as the last " + propdesc);
             emit("public " + xtype + " addNew" + propertyName + "()");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble(xtype, "addNew" + propertyName, NO_PARAMS, NO_PARAMS);
             emitDeclareTarget(true, xtype);
             emitPre(sType, PrePostExtension.OPERATION_INSERT, identifier, isAttr);
             emitAddTarget(identifier, isAttr, true, xtype);
@@ -2602,7 +2862,8 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             printJavaDoc("Removes the ith " + propdesc);
             emit("public void remove" + propertyName + "(int i)");
             startBlock();
-            emitImplementationPreamble();
+            emitImplementationPreamble("void", "remove" + propertyName,
+                new String[] { "int" }, new String[] { "i" });
             emitPre(sType, PrePostExtension.OPERATION_REMOVE, identifier, isAttr, "i");
             emit("get_store().remove_element(" + setIdentifier + ", i);");
             emitPost(sType, PrePostExtension.OPERATION_REMOVE, identifier, isAttr, "i");
@@ -2611,6 +2872,56 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
         }
     }
 
+    void printStreamAccessorImpls(QName qName, SchemaProperty prop, boolean isAttr,
+        String propertyName, String xtype, boolean readOnly,
+        String identifier, String setIdentifier, SchemaType sType)
+        throws IOException
+    {
+        String propdesc = "\"" + qName.getLocalPart() + "\"" + (isAttr ? " attribute" : " element");
+
+        // InputStream getPropStream()
+        printJavaDoc("Gets the bytes of the " + propdesc + " as a stream, decoded as it is read");
+        emit("public java.io.InputStream get" + propertyName + "Stream()");
+        startBlock();
+        emitImplementationPreamble("java.io.InputStream", "get" + propertyName + "Stream",
+            NO_PARAMS, NO_PARAMS);
+        emitGetTarget(setIdentifier, identifier, isAttr, "0", NOTHING, xtype);
+
+        if (isAttr && (prop.hasDefault() == SchemaProperty.CONSISTENTLY ||
+                prop.hasFixed() == SchemaProperty.CONSISTENTLY))
+        {
+            emit("if (target == null)");
+            startBlock();
+            makeAttributeDefaultValue(xtype, prop, identifier);
+            endBlock();
+        }
+
+        emit("if (target == null) return null;");
+        emit("return target.getByteStreamValue();");
+        emitImplementationPostamble();
+        endBlock();
+
+        if (readOnly)
+            return;
+
+        // void setPropStream(InputStream in)
+        String varName = NameUtil.lowerCamelCase(propertyName) + "Stream";
+
+        printJavaDoc("Sets the " + propdesc + " to the bytes read from the stream");
+        emit("public void set" + propertyName + "Stream(java.io.InputStream " + varName + ")" +
+            " throws java.io.IOException");
+        startBlock();
+        emitImplementationPreamble("void", "set" + propertyName + "Stream",
+            new String[] { "java.io.InputStream" }, new String[] { varName }, "java.io.IOException");
+        String index = prop.extendsJavaArray() ? "0" : "-1";
+        emitPre(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, index);
+        emitGetTarget(setIdentifier, identifier, isAttr, "0", ADD_NEW_VALUE, xtype);
+        emit("target.setByteStreamValue(" + varName + ");");
+        emitPost(sType, PrePostExtension.OPERATION_SET, identifier, isAttr, index);
+        emitImplementationPostamble();
+        endBlock();
+    }
+
     static void getTypeName(Class c, StringBuffer sb) {
         int arrayCount = 0;
         while (c.isArray()) {
@@ -2685,6 +2996,7 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
             }
 
             Map qNameMap = printStaticFields(properties);
+            printElementOrdinals(properties, qNameMap);
 
             for (int i = 0; i < properties.length; i++)
             {
@@ -2731,6 +3043,21 @@ public final class SchemaTypeCodePrinter implements SchemaCodePrinter
   	                    sType
                     );
                 }
+
+                if (hasStreamAccessors(prop))
+                {
+                    printStreamAccessorImpls(
+                        name,
+                        prop,
+                        prop.isAttribute(),
+                        prop.getJavaPropertyName(),
+                        xmlType,
+                        prop.isReadOnly(),
+                        getIdentifier(qNameMap, name),
+                        getSetIdentifier(qNameMap, name),
+                        sType
+                    );
+                }
             }
         }
 
@@ -115,6 +115,7 @@ public final class SchemaTypeImpl implements SchemaType, TypeStoreUserFactory
     // complex content support
     private SchemaParticle _contentModel;
     private volatile SchemaLocalElement[] _localElts; // lazily computed
+    private volatile Object _contentModelAutomaton; // lazily computed
     private volatile Map _eltToIndexMap; // lazily computed
     private volatile Map _attrToIndexMap; // lazily computed
     private Map _propertyModelByElementName;
@@ -176,6 +177,7 @@ public final class SchemaTypeImpl implements SchemaType, TypeStoreUserFactory
 
     // enumerated values
     private XmlValueRef[] _enumerationValues;
+    private volatile Map _enumerationIndexes; // lazily computed
     private SchemaType.Ref _baseEnumTyperef;
     private boolean _stringEnumEnsured;
     private volatile Map _lookupStringEnum;
@@ -427,7 +429,9 @@ public final class SchemaTypeImpl implements SchemaType, TypeStoreUserFactory
         if (_complexTypeVariety == NOT_COMPLEX_TYPE)
             return new SequencerImpl(null);
 
-        return new SequencerImpl(new SchemaTypeVisitorImpl(_contentModel));
+        // the same automaton as the validator's, see ContentModelAutomaton
+        return new SequencerImpl(
+            new SchemaTypeVisitorImpl(_contentModel, getContentModelAutomaton()));
     }
 
     /** Set the abstract and final flags for a complex type */
@@ -648,6 +652,25 @@ public final class SchemaTypeImpl implements SchemaType, TypeStoreUserFactory
     public SchemaParticle getContentModel()
     {   return _contentModel; }
 
+    private static final Object NO_AUTOMATON = new Object();
+
+    /**
+     * Returns the compiled automaton for the content model, or null if
+     * the content model cannot be compiled and has to be interpreted.
+     */
+    public ContentModelAutomaton getContentModelAutomaton()
+    {
+        Object automaton = _contentModelAutomaton;
+        if (automaton == null)
+        {
+            automaton = ContentModelAutomaton.compile(_contentModel);
+            if (automaton == null)
+                automaton = NO_AUTOMATON;
+            _contentModelAutomaton = automaton;
+        }
+        return automaton == NO_AUTOMATON ? null : (ContentModelAutomaton)automaton;
+    }
+
     private static void buildEltList(List eltList, SchemaParticle contentModel)
     {
         if (contentModel == null)
@@ -1436,7 +1459,33 @@ public final class SchemaTypeImpl implements SchemaType, TypeStoreUserFactory
     }
 
     public void setEnumerationValues(XmlValueRef[] a)
-        { assertResolving(); _enumerationValues = a; }
+        { assertResolving(); _enumerationValues = a; _enumerationIndexes = null; }
+
+    /**
+     * Returns the keys of the enumeration values made by the given
+     * EnumerationKey, building the set the first time it is asked for,
+     * or null if this type has no enumeration facet.
+     */
+    public Set getEnumerationIndex(EnumerationKey key)
+    {
+        if (_enumerationValues == null)
+            return null;
+
+        Map indexes = _enumerationIndexes;
+        Set index = indexes == null ? null : (Set)indexes.get(key);
+
+        if (index == null)
+        {
+            index = key.buildIndex(getEnumerationValues());
+
+            // Copied on write, so readers need no lock
+            Map newIndexes = indexes == null ? new HashMap() : new HashMap(indexes);
+            newIndexes.put(key, index);
+            _enumerationIndexes = newIndexes;
+        }
+
+        return index;
+    }
 
     public StringEnumAbstractBase enumForString(String s)
     {
@@ -0,0 +1,441 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.schema;
+
+import org.apache.xmlbeans.Filer;
+import org.apache.xmlbeans.ResourceLoader;
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SystemProperties;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.common.XBeanDebug;
+import org.apache.xmlbeans.impl.util.HexBin;
+import org.apache.xmlbeans.impl.xb.xsdschema.ImportDocument.Import;
+import org.apache.xmlbeans.impl.xb.xsdschema.SchemaDocument.Schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A cache, in a directory on disk, of the type systems compiled from
+ * schemas, which {@link SchemaTypeSystemCompiler#compile} uses when
+ * {@link XmlOptions#setCompileCacheDirectory} is set.
+ * <p>
+ * An entry is a zip file of the .xsb files the type system saves, named by
+ * a digest of the schema documents and of the options which change what
+ * they compile to.  Schemas which read other documents are not cached.
+ * Entries are written to a temporary file and renamed, so the JVMs sharing
+ * a directory only ever see whole entries, and they are read into memory at
+ * once, so an entry another JVM deletes does not break a type system loaded
+ * from it.  When the entries take more than the maximum size, those least
+ * recently used are deleted.
+ * <p>
+ * Nothing goes wrong without the cache: an entry which cannot be read or
+ * written is compiled as usual.
+ */
+final class SchemaTypeSystemCache
+{
+    private static final String SUFFIX = ".zip";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String NAME_ENTRY = "name";
+
+    /** The default maximum size of a cache directory, in bytes. */
+    static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    // Temporary files this old were left by a JVM which went away
+    private static final long TEMP_FILE_AGE = 60L * 60 * 1000;
+
+    // What the compiler's defaults depend on, besides the options
+    private static final String[] PROPERTIES = {
+        "xmlbean.uniqueparticleattribution",
+        "xmlbean.particlerestriction",
+        "xmlbean.schemaannotations",
+        "xmlbean.downloadurls",
+    };
+
+    private static final String[] FLAGS = {
+        XmlOptions.COMPILE_NO_VALIDATION,
+        XmlOptions.COMPILE_NO_UPA_RULE,
+        XmlOptions.COMPILE_NO_PVR_RULE,
+        XmlOptions.COMPILE_NO_ANNOTATIONS,
+        XmlOptions.COMPILE_DOWNLOAD_URLS,
+        XmlOptions.VALIDATE_TREAT_LAX_AS_SKIP,
+    };
+
+    private SchemaTypeSystemCache()
+    {
+    }
+
+    /**
+     * Returns true if the type system compiled from the given schemas can
+     * be cached, which is when they read no other documents: the key only
+     * knows the schemas passed in, so one which imports, includes or
+     * redefines a location would be found again after that document
+     * changed.
+     */
+    static boolean isCacheable(Schema[] schemas)
+    {
+        for (int i = 0; i < schemas.length; i++)
+        {
+            if (schemas[i].sizeOfIncludeArray() > 0 || schemas[i].sizeOfRedefineArray() > 0)
+                return false;
+
+            Import[] imports = schemas[i].getImportArray();
+            for (int j = 0; j < imports.length; j++)
+            {
+                if (imports[j].getSchemaLocation() != null)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the key of the type system compiled from the given schemas,
+     * which must be cacheable.  The type loader linked to is not part of
+     * the key.
+     */
+    static String key(String name, Schema[] schemas, XmlOptions options)
+    {
+        MessageDigest md;
+        try
+        {
+            md = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e.getMessage());
+        }
+
+        update(md, XmlBeans.getVersion());
+        update(md, SchemaTypeSystemImpl.MAJOR_VERSION + "." +
+            SchemaTypeSystemImpl.MINOR_VERSION + "." + SchemaTypeSystemImpl.RELEASE_NUMBER);
+        update(md, name);
+
+        for (int i = 0; i < PROPERTIES.length; i++)
+            update(md, SystemProperties.getProperty(PROPERTIES[i]));
+
+        for (int i = 0; i < FLAGS.length; i++)
+            update(md, options.hasOption(FLAGS[i]) ? FLAGS[i] : null);
+
+        Object value = options.get(XmlOptions.BASE_URI);
+        update(md, value == null ? null : value.toString());
+
+        value = options.get(XmlOptions.COMPILE_MDEF_NAMESPACES);
+        if (value != null)
+        {
+            for (Iterator i = new TreeSet((Collection)value).iterator(); i.hasNext(); )
+                update(md, (String)i.next());
+        }
+        update(md, null);
+
+        value = options.get(XmlOptions.COMPILE_SUBSTITUTE_NAMES);
+        if (value != null)
+        {
+            Map sorted = new TreeMap();
+            for (Iterator i = ((Map)value).entrySet().iterator(); i.hasNext(); )
+            {
+                Map.Entry e = (Map.Entry)i.next();
+                sorted.put(e.getKey().toString(), e.getValue().toString());
+            }
+            for (Iterator i = sorted.entrySet().iterator(); i.hasNext(); )
+            {
+                Map.Entry e = (Map.Entry)i.next();
+                update(md, (String)e.getKey());
+                update(md, (String)e.getValue());
+            }
+        }
+        update(md, null);
+
+        XmlOptions saveOptions = new XmlOptions().setSaveOuter();
+        for (int i = 0; i < schemas.length; i++)
+        {
+            update(md, schemas[i].documentProperties().getSourceName());
+            update(md, schemas[i].xmlText(saveOptions));
+        }
+
+        return new String(HexBin.encode(md.digest()));
+    }
+
+    private static void update(MessageDigest md, String s)
+    {
+        if (s == null)
+        {
+            md.update((byte)0);
+            return;
+        }
+
+        byte[] bytes;
+        try
+        {
+            bytes = s.getBytes("UTF-8");
+        }
+        catch (UnsupportedEncodingException e)
+        {
+            throw new IllegalStateException(e.getMessage());
+        }
+
+        md.update((byte)1);
+        md.update((byte)(bytes.length >>> 24));
+        md.update((byte)(bytes.length >>> 16));
+        md.update((byte)(bytes.length >>> 8));
+        md.update((byte)bytes.length);
+        md.update(bytes);
+    }
+
+    /**
+     * Returns the type system cached under the key, linked to the given
+     * loader, or null if there is none.
+     */
+    static SchemaTypeSystemImpl load(File dir, String key, SchemaTypeLoader linkTo)
+    {
+        File file = new File(dir, key + SUFFIX);
+        if (!file.isFile())
+            return null;
+
+        try
+        {
+            Map resources = new HashMap();
+            ZipInputStream in = new ZipInputStream(new FileInputStream(file));
+            try
+            {
+                for (ZipEntry e; (e = in.getNextEntry()) != null; )
+                    resources.put(e.getName(), readFully(in));
+            }
+            finally
+            {
+                in.close();
+            }
+
+            byte[] name = (byte[])resources.get(NAME_ENTRY);
+            if (name == null)
+                throw new IOException("No type system name in " + file);
+
+            SchemaTypeLoader linker = SchemaTypeLoaderImpl.build(
+                new SchemaTypeLoader[] { BuiltinSchemaTypeSystem.get(), linkTo }, null, null);
+            SchemaTypeSystemImpl sts = new SchemaTypeSystemImpl(
+                new MemoryResourceLoader(resources), new String(name, "UTF-8"), linker);
+            sts.resolve();
+
+            // it was used just now, as far as eviction goes
+            file.setLastModified(System.currentTimeMillis());
+
+            return sts;
+        }
+        catch (IOException e)
+        {
+            // another JVM may just have evicted it
+            if (file.exists())
+                XBeanDebug.logException(e);
+        }
+        catch (RuntimeException e)
+        {
+            // an entry which does not load is compiled again
+            XBeanDebug.logException(e);
+            file.delete();
+        }
+
+        return null;
+    }
+
+    /**
+     * Saves the type system under the key, then deletes the entries least
+     * recently used until they take no more than maxSize bytes.
+     */
+    static void store(File dir, String key, SchemaTypeSystemImpl sts, long maxSize)
+    {
+        File temp = null;
+        try
+        {
+            MemoryFiler filer = new MemoryFiler();
+            sts.save(filer);
+
+            dir.mkdirs();
+            temp = File.createTempFile(key, TEMP_SUFFIX, dir);
+
+            ZipOutputStream out = new ZipOutputStream(new FileOutputStream(temp));
+            try
+            {
+                out.putNextEntry(new ZipEntry(NAME_ENTRY));
+                out.write(sts.getName().getBytes("UTF-8"));
+                for (Iterator i = filer._files.entrySet().iterator(); i.hasNext(); )
+                {
+                    Map.Entry e = (Map.Entry)i.next();
+                    out.putNextEntry(new ZipEntry((String)e.getKey()));
+                    ((ByteArrayOutputStream)e.getValue()).writeTo(out);
+                }
+            }
+            finally
+            {
+                out.close();
+            }
+
+            // Another JVM may have stored the same entry meanwhile; where
+            // rename does not replace it, theirs is kept
+            if (temp.renameTo(new File(dir, key + SUFFIX)))
+                temp = null;
+        }
+        catch (IOException e)
+        {
+            XBeanDebug.logException(e);
+        }
+        catch (RuntimeException e)
+        {
+            XBeanDebug.logException(e);
+        }
+        finally
+        {
+            if (temp != null)
+                temp.delete();
+        }
+
+        evict(dir, maxSize);
+    }
+
+    private static void evict(File dir, long maxSize)
+    {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+
+        List entries = new ArrayList();
+        long size = 0;
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < files.length; i++)
+        {
+            String fileName = files[i].getName();
+            if (fileName.endsWith(SUFFIX))
+            {
+                CacheFile entry = new CacheFile(files[i]);
+                entries.add(entry);
+                size += entry._length;
+            }
+            else if (fileName.endsWith(TEMP_SUFFIX) && now - files[i].lastModified() > TEMP_FILE_AGE)
+                files[i].delete();
+        }
+
+        if (size <= maxSize)
+            return;
+
+        Collections.sort(entries);
+
+        for (Iterator i = entries.iterator(); i.hasNext() && size > maxSize; )
+        {
+            CacheFile entry = (CacheFile)i.next();
+            if (entry._file.delete() || !entry._file.exists())
+                size -= entry._length;
+        }
+    }
+
+    /**
+     * An entry found when evicting.  Its time and size are read once, since
+     * other JVMs may use or delete it meanwhile.
+     */
+    private static final class CacheFile implements Comparable
+    {
+        final File _file;
+        final long _used;
+        final long _length;
+
+        CacheFile(File file)
+        {
+            _file = file;
+            _used = file.lastModified();
+            _length = file.length();
+        }
+
+        public int compareTo(Object o)
+        {
+            long used = ((CacheFile)o)._used;
+            return _used < used ? -1 : (_used == used ? 0 : 1);
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[4096];
+        for (int n; (n = in.read(buf)) >= 0; )
+            out.write(buf, 0, n);
+        return out.toByteArray();
+    }
+
+    /**
+     * Keeps the binary files a type system saves, in the order they are
+     * created.
+     */
+    private static final class MemoryFiler implements Filer
+    {
+        final Map _files = new LinkedHashMap();
+
+        public OutputStream createBinaryFile(String typename)
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            _files.put(typename, out);
+            return out;
+        }
+
+        public Writer createSourceFile(String typename) throws IOException
+        {
+            throw new IOException("No source is cached: " + typename);
+        }
+    }
+
+    private static final class MemoryResourceLoader implements ResourceLoader
+    {
+        private final Map _resources;
+
+        MemoryResourceLoader(Map resources)
+        {
+            _resources = resources;
+        }
+
+        public InputStream getResourceAsStream(String resourceName)
+        {
+            byte[] bytes = (byte[])_resources.get(resourceName);
+            return bytes == null ? null : new ByteArrayInputStream(bytes);
+        }
+
+        public void close()
+        {
+        }
+    }
+}
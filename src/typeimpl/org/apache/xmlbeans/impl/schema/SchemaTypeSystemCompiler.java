@@ -33,6 +33,14 @@ import java.util.Map;
 import java.util.List;
 import java.util.Set;
 import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.net.URI;
 
 import org.apache.xmlbeans.impl.xb.xsdschema.SchemaDocument.Schema;
@@ -43,6 +51,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 
 public class SchemaTypeSystemCompiler
@@ -212,11 +221,24 @@ public class SchemaTypeSystemCompiler
             }
         }
 
+        Schema[] schemasArray = (Schema[])schemas.toArray(new Schema[schemas.size()]);
+
+        // a type system compiled before from the same schemas can be loaded
+        File cacheDir = (File)options.get(XmlOptions.COMPILE_CACHE_DIRECTORY);
+        String cacheKey = null;
+        if (cacheDir != null && existingSTS == null && config == null && filer == null
+            && SchemaTypeSystemCache.isCacheable(schemasArray))
+        {
+            cacheKey = SchemaTypeSystemCache.key(name, schemasArray, options);
+            SchemaTypeSystemImpl cached = SchemaTypeSystemCache.load(cacheDir, cacheKey, linkTo);
+            if (cached != null)
+                return cached;
+        }
+
         Collection userErrors = (Collection)options.get(XmlOptions.ERROR_LISTENER);
         XmlErrorWatcher errorWatcher = new XmlErrorWatcher(userErrors);
 
-        SchemaTypeSystemImpl stsi = compileImpl(existingSTS, name,
-            (Schema[])schemas.toArray(new Schema[schemas.size()]),
+        SchemaTypeSystemImpl stsi = compileImpl(existingSTS, name, schemasArray,
             config, linkTo, options, errorWatcher, filer!=null, (URI) options.get(XmlOptions.BASE_URI),
             null, null);
 
@@ -226,6 +248,13 @@ public class SchemaTypeSystemCompiler
             throw new XmlException(errorWatcher.firstError());
         }
 
+        if (cacheKey != null && stsi != null && !stsi.isIncomplete())
+        {
+            Long maxSize = (Long)options.get(XmlOptions.COMPILE_CACHE_MAX_SIZE);
+            SchemaTypeSystemCache.store(cacheDir, cacheKey, stsi,
+                maxSize == null ? SchemaTypeSystemCache.DEFAULT_MAX_SIZE : maxSize.longValue());
+        }
+
         if (stsi != null && !stsi.isIncomplete() && filer != null)
         {
             stsi.save(filer);
@@ -435,57 +464,237 @@ public class SchemaTypeSystemCompiler
             return false;
         
         boolean success = true;
+        boolean pojo = XmlOptions.hasOption(options, XmlOptions.GENERATE_POJO_BINDING);
 
-        List types = new ArrayList();
-        types.addAll(Arrays.asList(system.globalTypes()));
-        types.addAll(Arrays.asList(system.documentTypes()));
-        types.addAll(Arrays.asList(system.attributeTypes()));
+        List allTypes = new ArrayList();
+        allTypes.addAll(Arrays.asList(system.globalTypes()));
+        allTypes.addAll(Arrays.asList(system.documentTypes()));
+        allTypes.addAll(Arrays.asList(system.attributeTypes()));
 
-        for (Iterator i = types.iterator(); i.hasNext(); )
+        List types = new ArrayList();
+        for (Iterator i = allTypes.iterator(); i.hasNext(); )
         {
             SchemaType type = (SchemaType)i.next();
             if (type.isBuiltinType())
                 continue;
             if (type.getFullJavaName() == null)
                 continue;
+            types.add(type);
+        }
 
-            String fjn = type.getFullJavaName();
+        // a SchemaCodePrinter of the user's is not known to be thread safe
+        int parallelism = 1;
+        if (XmlOptions.hasOption(options, XmlOptions.GENERATE_PARALLELISM) &&
+            !XmlOptions.hasOption(options, XmlOptions.SCHEMA_CODE_PRINTER))
+            parallelism = ((Integer)options.get(XmlOptions.GENERATE_PARALLELISM)).intValue();
 
-            Writer writer = null;
+        if (parallelism > 1 && types.size() > 1)
+            return generateTypesInParallel(types, filer, options, pojo, parallelism);
 
-            try
+        for (Iterator i = types.iterator(); i.hasNext(); )
+        {
+            SchemaType type = (SchemaType)i.next();
+            int count = sourceCount(type, pojo);
+
+            for (int kind = 0; kind < count; kind++)
             {
+                Writer writer = null;
+
+                try
+                {
+                    writer = filer.createSourceFile(sourceName(type, kind));
+                    printSource(writer, type, kind, options);
+                }
+                catch (IOException e)
+                {
+                    System.err.println("IO Error " + e);
+                    success = false;
+                }
+                finally {
+                    try { if (writer != null) writer.close(); } catch (IOException e) {}
+                }
+            }
+        }
+
+        return success;
+    }
+
+    // The sources printed for a type, in the order they are created
+
+    private static final int SOURCE_INTERFACE = 0;
+    private static final int SOURCE_IMPL = 1;
+    private static final int SOURCE_POJO = 2;
+
+    private static int sourceCount(SchemaType type, boolean pojo)
+    {
+        return (pojo && SchemaPojoCodePrinter.hasPojo(type)) ? 3 : 2;
+    }
+
+    private static String sourceName(SchemaType type, int kind)
+    {
+        switch (kind)
+        {
+            case SOURCE_INTERFACE:
+                return type.getFullJavaName();
+            case SOURCE_IMPL:
+                return type.getFullJavaImplName();
+            default:
+                return SchemaPojoCodePrinter.pojoClassName(type);
+        }
+    }
+
+    private static void printSource(Writer writer, SchemaType type, int kind, XmlOptions options)
+        throws IOException
+    {
+        switch (kind)
+        {
+            case SOURCE_INTERFACE:
                 // Generate interface class
-                writer = filer.createSourceFile(fjn);
                 SchemaTypeCodePrinter.printType(writer, type, options);
-            }
-            catch (IOException e)
+                break;
+            case SOURCE_IMPL:
+                // Generate Implementation class
+                SchemaTypeCodePrinter.printTypeImpl(writer, type, options);
+                break;
+            default:
+                // Generate plain Java binding class
+                SchemaPojoCodePrinter.printPojo(writer, type);
+                break;
+        }
+    }
+
+    /**
+     * Prints the sources of the types on up to the given number of threads.
+     * The threads only print into memory: the sources are handed to the
+     * filer on this thread, in the order the serial loop creates them, so
+     * the filer need not be thread safe and its output does not depend on
+     * the number of threads.  Only a few types per thread are printed ahead
+     * of the one being written out.
+     */
+    private static boolean generateTypesInParallel(List types, Filer filer, XmlOptions options, boolean pojo, int parallelism)
+    {
+        boolean success = true;
+
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(
+                parallelism, parallelism, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue(),
+                new ThreadFactory()
+                {
+                    public Thread newThread(Runnable r)
+                    {
+                        Thread t = new Thread(r, "xmlbeans-generate-types");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+
+        try
+        {
+            LinkedList pending = new LinkedList();
+            Iterator i = types.iterator();
+
+            for (;;)
             {
-                System.err.println("IO Error " + e);
-                success = false;
+                while (pending.size() < parallelism * TYPES_AHEAD_PER_THREAD && i.hasNext())
+                {
+                    TypeSources sources = new TypeSources((SchemaType)i.next(), options, pojo);
+                    executor.execute(sources._task);
+                    pending.add(sources);
+                }
+
+                if (pending.isEmpty())
+                    break;
+
+                TypeSources sources = (TypeSources)pending.removeFirst();
+                String[] texts = sources.get();
+
+                for (int kind = 0; kind < texts.length; kind++)
+                {
+                    Writer writer = null;
+
+                    try
+                    {
+                        writer = filer.createSourceFile(sourceName(sources._type, kind));
+                        writer.write(texts[kind]);
+                    }
+                    catch (IOException e)
+                    {
+                        System.err.println("IO Error " + e);
+                        success = false;
+                    }
+                    finally {
+                        try { if (writer != null) writer.close(); } catch (IOException e) {}
+                    }
+                }
             }
-            finally {
-                try { if (writer != null) writer.close(); } catch (IOException e) {}
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return success;
+    }
+
+    private static final int TYPES_AHEAD_PER_THREAD = 4;
+
+    /**
+     * The sources of one type, printed into memory by a pool thread.
+     */
+    private static final class TypeSources implements Callable
+    {
+        TypeSources(SchemaType type, XmlOptions options, boolean pojo)
+        {
+            _type = type;
+            _options = options;
+            _pojo = pojo;
+        }
+
+        public Object call() throws IOException
+        {
+            String[] texts = new String[sourceCount(_type, _pojo)];
+
+            for (int kind = 0; kind < texts.length; kind++)
+            {
+                StringWriter writer = new StringWriter();
+                printSource(writer, _type, kind, _options);
+                texts[kind] = writer.toString();
             }
 
+            return texts;
+        }
+
+        String[] get()
+        {
             try
             {
-                // Generate Implementation class
-                fjn = type.getFullJavaImplName();
-                writer = filer.createSourceFile(fjn);
-
-                SchemaTypeCodePrinter.printTypeImpl(writer, type, options);
+                return (String[])_task.get();
             }
-            catch (IOException e)
+            catch (InterruptedException e)
             {
-                System.err.println("IO Error " + e);
-                success = false;
+                Thread.currentThread().interrupt();
+
+                throw new RuntimeException(e);
             }
-            finally {
-                try { if (writer != null) writer.close(); } catch (IOException e) {}
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException)cause;
+
+                if (cause instanceof Error)
+                    throw (Error)cause;
+
+                // printing into memory does not throw IOException
+                throw new RuntimeException(cause);
             }
         }
 
-        return success;
+        final SchemaType _type;
+        final XmlOptions _options;
+        final boolean _pojo;
+        final FutureTask _task = new FutureTask(this);
     }
 }
@@ -38,13 +38,35 @@ public class SchemaTypeVisitorImpl implements TypeStoreVisitor
         init(part);
     }
 
+    /**
+     * Construct it by passing the root of the content model and its
+     * compiled automaton, if any, which is then used instead of
+     * interpreting the content model.
+     */
+    public SchemaTypeVisitorImpl(SchemaParticle part, ContentModelAutomaton automaton)
+    {
+        init(part, automaton);
+    }
+
     public SchemaTypeVisitorImpl()
     {
 
     }
 
+    public void init(SchemaParticle part, ContentModelAutomaton automaton)
+    {
+        init(part);
+
+        _automaton = automaton;
+
+        if (automaton != null)
+            _state = automaton.start();
+    }
+
     public void init(SchemaParticle part)
     {
+        _automaton = null;
+
         if (_stack == null)
         {
             _stack = expand(null);
@@ -89,6 +111,8 @@ public class SchemaTypeVisitorImpl implements TypeStoreVisitor
     private SchemaParticle _matchedParticle;
     private VisitorState _top;
     private int _rollbackIndex;
+    private ContentModelAutomaton _automaton;
+    private int _state;
 
     private static class VisitorState
     {
@@ -318,6 +342,9 @@ public class SchemaTypeVisitorImpl implements TypeStoreVisitor
 
     public boolean visit(QName eltName, boolean testValidity)
     {
+        if (_automaton != null)
+            return step(eltName, testValidity);
+
         if (!prepare())
             return notValid();
 
@@ -455,6 +482,57 @@ public class SchemaTypeVisitorImpl implements TypeStoreVisitor
         return notValid();
     }
 
+    /**
+     * The state of the automaton once the end of the content has been
+     * accepted: nothing more is, as the interpreter, which has then popped
+     * its whole stack, accepts nothing more either.
+     */
+    private static final int DEAD = -1;
+
+    /**
+     * The compiled equivalent of visit: one transition of the automaton.
+     * A transition which is not allowed leaves the state as it was, the
+     * way the interpreter rolls back, so the siblings after an invalid
+     * element are checked as if it were not there.
+     */
+    private boolean step(QName eltName, boolean testValidity)
+    {
+        int next;
+
+        if (_state == DEAD)
+            return stepNotValid();
+
+        if (eltName == null)
+        {
+            if (!_automaton.isFinal(_state))
+                return stepNotValid();
+
+            next = DEAD;
+        }
+        else
+        {
+            next = _automaton.next(_state, eltName);
+
+            if (next < 0)
+                return stepNotValid();
+        }
+
+        if (!testValidity)
+        {
+            _state = next;
+            _matchedParticle = eltName == null ? null : _automaton.particle(next);
+        }
+
+        return true;
+    }
+
+    private boolean stepNotValid()
+    {
+        _isValid = false;
+        _matchedParticle = null;
+        return false;
+    }
+
     public boolean testValid(QName eltName)
     {
       return visit(eltName,PROBE_VALIDITY);
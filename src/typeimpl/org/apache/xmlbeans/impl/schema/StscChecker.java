@@ -43,6 +43,13 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.math.BigInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class StscChecker
 {
@@ -60,16 +67,142 @@ public class StscChecker
         for (int i = 0; i < allSeenTypes.size(); i++)
         {
             SchemaType gType = (SchemaType)allSeenTypes.get(i);
+            allSeenTypes.addAll(Arrays.asList(gType.getAnonymousTypes()));
+        }
+
+        if (state.parallelism() > 1 && allSeenTypes.size() > 1)
+            checkTypesInParallel(allSeenTypes, state.parallelism());
+        else
+            checkTypes(allSeenTypes, 0, allSeenTypes.size());
+
+        checkSubstitutionGroups(state.globalElements());
+    }
+
+    private static void checkTypes(List types, int start, int end)
+    {
+        StscState state = StscState.get();
+
+        for (int i = start; i < end; i++)
+        {
+            SchemaType gType = (SchemaType)types.get(i);
             if (!state.noPvr() &&  // option to turn off particle restriction checking
                 !gType.isDocumentType()) // Don't check doc types for restriction. 
             {
                 checkRestriction((SchemaTypeImpl)gType);
             }
             checkFields((SchemaTypeImpl)gType);
-            allSeenTypes.addAll(Arrays.asList(gType.getAnonymousTypes()));
         }
+    }
 
-        checkSubstitutionGroups(state.globalElements());
+    /**
+     * Checks the types on up to the given number of threads.  The types
+     * are resolved by now, and checking one only reads them, apart from
+     * the default values it sets on its own properties.  The messages
+     * of each run of types are passed on here, in the order of the types,
+     * so they do not depend on the number of threads.
+     */
+    private static void checkTypesInParallel(List types, int parallelism)
+    {
+        StscState state = StscState.get();
+
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(
+                parallelism, parallelism, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue(),
+                new ThreadFactory()
+                {
+                    public Thread newThread(Runnable r)
+                    {
+                        Thread t = new Thread(r, "xmlbeans-check-types");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+
+        try
+        {
+            int tasks = Math.min(types.size(), parallelism * TASKS_PER_THREAD);
+            TypeChecks[] checks = new TypeChecks[tasks];
+
+            for (int i = 0; i < tasks; i++)
+            {
+                checks[i] = new TypeChecks(state, types,
+                    types.size() * i / tasks, types.size() * (i + 1) / tasks);
+                executor.execute(checks[i]._task);
+            }
+
+            for (int i = 0; i < tasks; i++)
+                state.addMessages(checks[i].get());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final int TASKS_PER_THREAD = 8;
+
+    /**
+     * The checks of a run of types, made by a pool thread.
+     */
+    private static final class TypeChecks implements Callable
+    {
+        TypeChecks(StscState state, List types, int start, int end)
+        {
+            _state = state;
+            _types = types;
+            _start = start;
+            _end = end;
+        }
+
+        public Object call()
+        {
+            StscState.Messages messages = new StscState.Messages();
+
+            _state.startWorker(messages);
+            try
+            {
+                checkTypes(_types, _start, _end);
+            }
+            finally
+            {
+                StscState.endWorker();
+            }
+
+            return messages;
+        }
+
+        StscState.Messages get()
+        {
+            try
+            {
+                return (StscState.Messages)_task.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException)cause;
+
+                if (cause instanceof Error)
+                    throw (Error)cause;
+
+                throw new RuntimeException(cause);
+            }
+        }
+
+        final StscState _state;
+        final List _types;
+        final int _start;
+        final int _end;
+        final FutureTask _task = new FutureTask(this);
     }
     
     /**
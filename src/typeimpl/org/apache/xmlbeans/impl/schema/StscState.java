@@ -92,6 +92,7 @@ public class StscState
     private boolean _noUpa;
     private boolean _noPvr;
     private boolean _noAnn;
+    private int _parallelism = 1;
     private boolean _mdefAll;
     private Set _mdefNamespaces     = buildDefaultMdefNamespaces();
     private EntityResolver _entityResolver;
@@ -302,26 +303,26 @@ public class StscState
      * KHK: remove this
      */
     public void error(String message, int code, XmlObject loc)
-        { addError(_errorListener, message, code, loc); }
+        { addError(errorListener(), message, code, loc); }
 
     /**
      * Passes an error on to the current error listener.
      */
     public void error(String code, Object[] args, XmlObject loc)
-        { addError(_errorListener, code, args, loc); }
+        { addError(errorListener(), code, args, loc); }
     
     /**
      * Passes a recovered error on to the current error listener.
      */
     public void recover(String code, Object[] args, XmlObject loc)
-        { addError(_errorListener, code, args, loc); _recoveredErrors++; }
+        { addError(errorListener(), code, args, loc); recovered(); }
     
     /**
      * Passes an error on to the current error listener.
      */
     public void warning(String message, int code, XmlObject loc)
     {
-        addWarning(_errorListener, message, code, loc);
+        addWarning(errorListener(), message, code, loc);
     }
 
     /**
@@ -335,20 +336,20 @@ public class StscState
             loc.documentProperties().getSourceName().indexOf("XMLSchema.xsd") > 0)
             return;
 
-        addWarning(_errorListener, code, args, loc);
+        addWarning(errorListener(), code, args, loc);
     }
 
     /**
      * Passes a warning on to the current error listener.
      */
     public void info(String message)
-        { addInfo(_errorListener, message); }
+        { addInfo(errorListener(), message); }
 
     /**
      * Passes a warning on to the current error listener.
      */
     public void info(String code, Object[] args)
-        { addInfo(_errorListener, code, args); }
+        { addInfo(errorListener(), code, args); }
 
     // KHK: remove this
     public static void addError(Collection errorListener, String message, int code, XmlObject location)
@@ -526,6 +527,8 @@ public class StscState
                 !"true".equals(SystemProperties.getProperty("xmlbean.particlerestriction", "true"));
         _noAnn = options.hasOption(XmlOptions.COMPILE_NO_ANNOTATIONS) ? true :
             !"true".equals(SystemProperties.getProperty("xmlbean.schemaannotations", "true"));
+        if (options.hasOption(XmlOptions.COMPILE_PARALLELISM))
+            _parallelism = ((Integer)options.get(XmlOptions.COMPILE_PARALLELISM)).intValue();
         _doingDownloads = options.hasOption(XmlOptions.COMPILE_DOWNLOAD_URLS) ? true :
                 "true".equals(SystemProperties.getProperty("xmlbean.downloadurls", "false"));
         _entityResolver = (EntityResolver)options.get(XmlOptions.ENTITY_RESOLVER);
@@ -580,6 +583,15 @@ public class StscState
         return _noPvr;
     }
 
+    /**
+     * The number of threads the phases which may run on several threads
+     * should use
+     */
+    public int parallelism()
+    {
+        return _parallelism;
+    }
+
     /**
      * True if annotations should be skipped
      */
@@ -1251,6 +1263,7 @@ public class StscState
     private static final class StscStack
     {
         StscState current;
+        Messages messages;
         ArrayList stack = new ArrayList();
         final StscState push()
         {
@@ -1297,6 +1310,51 @@ public class StscState
                                                // which will enable class unloading and avoid OOM in PermGen
     }
 
+    /**
+     * The messages passed on by a worker thread, and how many of them
+     * were recovered errors.
+     */
+    static final class Messages
+    {
+        final List list = new ArrayList();
+        int recovered;
+    }
+
+    /**
+     * Lets a worker thread of a phase which runs on several threads see
+     * this state, with the messages it passes on kept in the given
+     * Messages.  Must be followed by endWorker() on the same thread.
+     */
+    void startWorker(Messages messages)
+    {
+        StscStack stscStack = new StscStack();
+        stscStack.current = this;
+        stscStack.messages = messages;
+        tl_stscStack.set(stscStack);
+    }
+
+    private static Messages workerMessages()
+    {
+        StscStack stscStack = (StscStack) tl_stscStack.get();
+        return stscStack == null ? null : stscStack.messages;
+    }
+
+    static void endWorker()
+    {
+        tl_stscStack.set(null);
+    }
+
+    /**
+     * Passes on the messages of a worker thread, on the thread which
+     * started the compilation.
+     */
+    void addMessages(Messages messages)
+    {
+        for (Iterator i = messages.list.iterator(); i.hasNext(); )
+            _errorListener.add(i.next());
+        _recoveredErrors += messages.recovered;
+    }
+
     private final static XmlValueRef XMLSTR_PRESERVE = buildString("preserve");
     private final static XmlValueRef XMLSTR_REPLACE = buildString("preserve");
     private final static XmlValueRef XMLSTR_COLLAPSE = buildString("preserve");
@@ -1366,7 +1424,7 @@ public class StscState
         String sourceName = null;
         
         if (recovered)
-            _recoveredErrors++;
+            recovered();
 
         switch (code)
         {
@@ -1572,7 +1630,26 @@ public class StscState
      */
     public Collection getErrorListener()
     {
-        return _errorListener;
+        return errorListener();
+    }
+
+    /**
+     * The listener of this thread: the messages of a worker thread are
+     * kept apart until they are passed on.
+     */
+    private Collection errorListener()
+    {
+        Messages messages = workerMessages();
+        return messages == null ? _errorListener : messages.list;
+    }
+
+    private void recovered()
+    {
+        Messages messages = workerMessages();
+        if (messages == null)
+            _recoveredErrors++;
+        else
+            messages.recovered++;
     }
 
     /**
@@ -15,6 +15,9 @@
 
 package org.apache.xmlbeans.impl.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 /**
  * This class provides encode/decode for RFC 2045 Base64 as
@@ -24,9 +27,9 @@ import java.io.UnsupportedEncodingException;
  * 1996 Available at: http://www.ietf.org/rfc/rfc2045.txt
  * This class is used by XML Schema binary format validation
  *
- * This implementation does not encode/decode streaming
- * data. You need the data that you will encode/decode
- * already on a byte arrray.
+ * Besides the byte array methods, there are stream methods
+ * which encode/decode data as it is read, without ever
+ * having all of it at once.
  *
  * @author Jeffrey Rodriguez
  * @author Sandy Gao
@@ -285,6 +288,192 @@ public final class  Base64 {
         return decodedData;
     }
 
+    /**
+     * Decodes Base64 data into octects as they are read. White space is
+     * skipped as by decode(byte[]); data which decode(byte[]) would not
+     * decode makes the stream throw an IOException when it is reached.
+     *
+     * @param base64Data Reader of Base64 data
+     * @return Stream of decoded data.
+     */
+    public static InputStream decode(Reader base64Data) {
+        return new DecodingStream(base64Data);
+    }
+
+    /**
+     * Encodes octects into Base64 as they are read, the same as
+     * encode(byte[]) would encode all of them.
+     *
+     * @param binaryData Stream of binary data
+     * @return Reader of encoded Base64 data.
+     */
+    public static Reader encode(InputStream binaryData) {
+        return new EncodingReader(binaryData);
+    }
+
+    private static final class DecodingStream extends InputStream {
+        private final Reader _data;
+        private final char[] _chars = new char[4096];
+        private final byte[] _bytes = new byte[(4096/FOURBYTE + 1)*3];
+        private final byte[] _quad = new byte[FOURBYTE];
+        private int _pos, _end;
+        private int _cquad, _pads;
+        private boolean _padded, _eof;
+
+        DecodingStream(Reader data) {
+            _data = data;
+        }
+
+        public int read() throws IOException {
+            while (_pos == _end) {
+                if (!fill())
+                    return -1;
+            }
+            return _bytes[_pos++] & 0xff;
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            while (_pos == _end) {
+                if (!fill())
+                    return -1;
+            }
+            int n = Math.min(len, _end - _pos);
+            System.arraycopy(_bytes, _pos, b, off, n);
+            _pos += n;
+            return n;
+        }
+
+        public void close() throws IOException {
+            _data.close();
+        }
+
+        // decodes the next chars into _bytes, false at the end of the data
+        private boolean fill() throws IOException {
+            if (_eof)
+                return false;
+
+            _pos = _end = 0;
+
+            int cch = _data.read(_chars, 0, _chars.length);
+            if (cch < 0) {
+                _eof = true;
+                if (_cquad != 0)
+                    throw new IOException("base64 data is not a multiple of four characters");
+                return false;
+            }
+
+            for (int i = 0; i < cch; i++) {
+                char c = _chars[i];
+
+                if (c == 0x20 || c == 0xd || c == 0xa || c == 0x9)
+                    continue;
+
+                // only white space may follow padding
+                if (_padded)
+                    throw new IOException("base64 data after the padding");
+
+                if (c == PAD) {
+                    if (_cquad < 2)
+                        throw new IOException("base64 padding out of place");
+                    _pads++;
+                    _quad[_cquad++] = 0;
+                }
+                else if (c < BASELENGTH && base64Alphabet[c] != -1 && _pads == 0)
+                    _quad[_cquad++] = base64Alphabet[c];
+                else
+                    throw new IOException("not base64 data: '" + c + "'");
+
+                if (_cquad == FOURBYTE) {
+                    byte b1 = _quad[0], b2 = _quad[1], b3 = _quad[2], b4 = _quad[3];
+
+                    if ((_pads == 2 && (b2 & 0xf) != 0) || (_pads == 1 && (b3 & 0x3) != 0))
+                        throw new IOException("base64 data does not end on a byte");
+
+                    _bytes[_end++] = (byte)(  b1 <<2 | b2>>4 ) ;
+                    if (_pads < 2)
+                        _bytes[_end++] = (byte)(((b2 & 0xf)<<4 ) |( (b3>>2) & 0xf) );
+                    if (_pads < 1)
+                        _bytes[_end++] = (byte)( b3<<6 | b4 );
+
+                    _padded = _pads > 0;
+                    _cquad = 0;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static final class EncodingReader extends Reader {
+        private final InputStream _data;
+        private final byte[] _bytes = new byte[3*1024];
+        private final char[] _chars = new char[4*1024];
+        private int _cbytes;
+        private int _pos, _end;
+        private boolean _eof;
+
+        EncodingReader(InputStream data) {
+            _data = data;
+        }
+
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            while (_pos == _end) {
+                if (!fill())
+                    return -1;
+            }
+            int n = Math.min(len, _end - _pos);
+            System.arraycopy(_chars, _pos, cbuf, off, n);
+            _pos += n;
+            return n;
+        }
+
+        public void close() throws IOException {
+            _data.close();
+        }
+
+        // encodes the next whole triplets into _chars, and the rest with
+        // padding at the end of the data; false once all is encoded
+        private boolean fill() throws IOException {
+            if (_eof)
+                return false;
+
+            _pos = _end = 0;
+
+            int n = _data.read(_bytes, _cbytes, _bytes.length - _cbytes);
+            if (n < 0)
+                _eof = true;
+            else
+                _cbytes += n;
+
+            int i = 0;
+            for (; i + 3 <= _cbytes; i += 3) {
+                int b1 = _bytes[i] & 0xff, b2 = _bytes[i + 1] & 0xff, b3 = _bytes[i + 2] & 0xff;
+                _chars[_end++] = (char) lookUpBase64Alphabet[b1 >> 2];
+                _chars[_end++] = (char) lookUpBase64Alphabet[((b1 & 0x3) << 4) | (b2 >> 4)];
+                _chars[_end++] = (char) lookUpBase64Alphabet[((b2 & 0xf) << 2) | (b3 >> 6)];
+                _chars[_end++] = (char) lookUpBase64Alphabet[b3 & 0x3f];
+            }
+
+            if (_eof && i < _cbytes) {
+                int b1 = _bytes[i] & 0xff, b2 = i + 1 < _cbytes ? _bytes[i + 1] & 0xff : 0;
+                _chars[_end++] = (char) lookUpBase64Alphabet[b1 >> 2];
+                _chars[_end++] = (char) lookUpBase64Alphabet[((b1 & 0x3) << 4) | (b2 >> 4)];
+                _chars[_end++] = i + 1 < _cbytes ? (char) lookUpBase64Alphabet[(b2 & 0xf) << 2] : (char) PAD;
+                _chars[_end++] = (char) PAD;
+                i = _cbytes;
+            }
+
+            System.arraycopy(_bytes, i, _bytes, 0, _cbytes - i);
+            _cbytes -= i;
+
+            return !_eof || _end > 0;
+        }
+    }
+
 //    /**
 //     * Decodes Base64 data into octects
 //     *
@@ -34,6 +34,8 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
 
 import org.apache.xmlbeans.impl.repackage.Repackager;
 
@@ -49,6 +51,7 @@ public class FilerImpl implements Filer
     private List sourceFiles;
     private boolean incrSrcGen;
     private Set seenTypes;
+    private Map sourceText;
     private static final Charset CHARSET;
 
     static
@@ -63,6 +66,16 @@ public class FilerImpl implements Filer
     }
 
     public FilerImpl(File classdir, File srcdir, Repackager repackager, boolean verbose, boolean incrSrcGen)
+    {
+        this(classdir, srcdir, repackager, verbose, incrSrcGen, false);
+    }
+
+    /**
+     * @param keepSources if true, the text of each source file is also kept
+     * in memory, so that it can be compiled without reading it back
+     * @see #getSourceText()
+     */
+    public FilerImpl(File classdir, File srcdir, Repackager repackager, boolean verbose, boolean incrSrcGen, boolean keepSources)
     {
         this.classdir = classdir;
         this.srcdir = srcdir;
@@ -72,6 +85,8 @@ public class FilerImpl implements Filer
         this.incrSrcGen = incrSrcGen;
         if (this.incrSrcGen)
             seenTypes = new HashSet();
+        if (keepSources)
+            sourceText = new HashMap();
     }
 
     /**
@@ -121,7 +136,11 @@ public class FilerImpl implements Filer
 
         sourceFiles.add(sourcefile);
 
-        if (incrSrcGen && sourcefile.exists())
+        if (sourceText != null)
+        {
+            return new KeepingWriter(sourcefile);
+        }
+        else if (incrSrcGen && sourcefile.exists())
         {
             // Generate the file in a buffer and then compare it to the
             // file already on disk
@@ -140,6 +159,15 @@ public class FilerImpl implements Filer
         return new ArrayList(sourceFiles);
     }
 
+    /**
+     * Returns the text of the source files created so far, as a map from
+     * their File to a String, or null if this filer does not keep it.
+     */
+    public Map getSourceText()
+    {
+        return sourceText;
+    }
+
     public Repackager getRepackager()
     {
         return repackager;
@@ -156,6 +184,38 @@ public class FilerImpl implements Filer
         return new OutputStreamWriter(fileStream, ce);
     }
 
+    /**
+     * Keeps the text of a source file, then writes it to disk as the other
+     * writers do.
+     */
+    class KeepingWriter extends StringWriter
+    {
+        private File _file;
+
+        public KeepingWriter(File file)
+        {
+            _file = file;
+        }
+
+        public void close() throws IOException
+        {
+            super.close();
+
+            String str = repackager != null ?
+                repackager.repackage(getBuffer()).toString() :
+                getBuffer().toString();
+            sourceText.put(_file, str);
+
+            Writer fw = incrSrcGen && _file.exists() ?
+                (Writer) new IncrFileWriter(_file, null) :
+                writerForFile(_file);
+            try
+            {   fw.write(str); }
+            finally
+            {   fw.close(); }
+        }
+    }
+
     static class IncrFileWriter extends StringWriter
     {
         private File _file;
@@ -15,6 +15,9 @@
 
 package org.apache.xmlbeans.impl.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 /**
  * format validation
@@ -115,6 +118,144 @@ public final class  HexBin {
         return decodedData;
     }
 
+    /**
+     * Decodes Hex data into octects as they are read.  White space is
+     * allowed before and after the data only; data which could not be
+     * decoded makes the stream throw an IOException when it is reached.
+     *
+     * @param binaryData Reader of Hex data
+     * @return Stream of decoded data.
+     */
+    public static InputStream decode(Reader binaryData) {
+        return new DecodingStream(binaryData);
+    }
+
+    /**
+     * Encodes octects into Hex data as they are read, the same as
+     * encode(byte[]) would encode all of them.
+     *
+     * @param binaryData Stream of binary data
+     * @return Reader of encoded Hex data.
+     */
+    public static Reader encode(InputStream binaryData) {
+        return new EncodingReader(binaryData);
+    }
+
+    private static final class DecodingStream extends InputStream {
+        private final Reader _data;
+        private final char[] _chars = new char[4096];
+        private final byte[] _bytes = new byte[4096/2 + 1];
+        private int _pos, _end;
+        private int _high = -1;
+        private boolean _started, _ended, _eof;
+
+        DecodingStream(Reader data) {
+            _data = data;
+        }
+
+        public int read() throws IOException {
+            while (_pos == _end) {
+                if (!fill())
+                    return -1;
+            }
+            return _bytes[_pos++] & 0xff;
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            while (_pos == _end) {
+                if (!fill())
+                    return -1;
+            }
+            int n = Math.min(len, _end - _pos);
+            System.arraycopy(_bytes, _pos, b, off, n);
+            _pos += n;
+            return n;
+        }
+
+        public void close() throws IOException {
+            _data.close();
+        }
+
+        // decodes the next chars into _bytes, false at the end of the data
+        private boolean fill() throws IOException {
+            if (_eof)
+                return false;
+
+            _pos = _end = 0;
+
+            int cch = _data.read(_chars, 0, _chars.length);
+            if (cch < 0) {
+                _eof = true;
+                if (_high >= 0)
+                    throw new IOException("hex data is not a multiple of two characters");
+                return false;
+            }
+
+            for (int i = 0; i < cch; i++) {
+                char c = _chars[i];
+
+                if (c == 0x20 || c == 0xd || c == 0xa || c == 0x9) {
+                    _ended = _started;
+                    continue;
+                }
+
+                if (_ended)
+                    throw new IOException("white space within hex data");
+
+                int v = c < BASELENGTH ? hexNumberTable[c] : -1;
+                if (v < 0)
+                    throw new IOException("not hex data: '" + c + "'");
+
+                _started = true;
+
+                if (_high < 0)
+                    _high = v;
+                else {
+                    _bytes[_end++] = (byte) ((_high << 4) | v);
+                    _high = -1;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static final class EncodingReader extends Reader {
+        private final InputStream _data;
+        private final byte[] _bytes = new byte[2048];
+        private final char[] _chars = new char[4096];
+        private int _pos, _end;
+
+        EncodingReader(InputStream data) {
+            _data = data;
+        }
+
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            while (_pos == _end) {
+                int n = _data.read(_bytes, 0, _bytes.length);
+                if (n < 0)
+                    return -1;
+                _pos = _end = 0;
+                for (int i = 0; i < n; i++) {
+                    _chars[_end++] = (char) lookUpHexAlphabet[(_bytes[i] >> 4) & 0xf];
+                    _chars[_end++] = (char) lookUpHexAlphabet[_bytes[i] & 0xf];
+                }
+            }
+            int n = Math.min(len, _end - _pos);
+            System.arraycopy(_chars, _pos, cbuf, off, n);
+            _pos += n;
+            return n;
+        }
+
+        public void close() throws IOException {
+            _data.close();
+        }
+    }
+
     /**
      * Decodes Hex data into octects
      *
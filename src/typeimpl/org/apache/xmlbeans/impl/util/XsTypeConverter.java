@@ -268,8 +268,7 @@ public final class XsTypeConverter
     public static long lexLong(CharSequence cs)
         throws NumberFormatException
     {
-        final String v = cs.toString();
-        return Long.parseLong(trimInitialPlus(v));
+        return parseLong(cs);
     }
 
     public static long lexLong(CharSequence cs, Collection errors)
@@ -679,6 +678,49 @@ public final class XsTypeConverter
         return parseIntXsdNumber(cs, Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
+    private static long parseLong(CharSequence ch)
+    {
+        // long parser on a CharSequence, like Long.parseLong with an
+        // optional initial '+'
+        int length = ch.length();
+        int start = 0;
+        long limit = -Long.MAX_VALUE;
+        boolean negative = false;
+
+        if (length > 0) {
+            char c = ch.charAt(0);
+            if (c == '-') {
+                start++;
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (c == '+') {
+                start++;
+            }
+        }
+
+        if (start == length)
+            throw new NumberFormatException("For input string: \"" + ch.toString() + "\"");
+
+        long multmin = limit / 10;
+        long result = 0;
+
+        for (int i = start; i < length; i++) {
+            int v = Character.digit(ch.charAt(i), 10);
+
+            if (v < 0 || result < multmin)
+                throw new NumberFormatException("For input string: \"" + ch.toString() + "\"");
+
+            result *= 10;
+
+            if (result < limit + v)
+                throw new NumberFormatException("For input string: \"" + ch.toString() + "\"");
+
+            result -= v;
+        }
+
+        return negative ? result : -result;
+    }
+
     private static short parseShort(CharSequence cs)
     {
         return (short)parseIntXsdNumber(cs, Short.MIN_VALUE, Short.MAX_VALUE);
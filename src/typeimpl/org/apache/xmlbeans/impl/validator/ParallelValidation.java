@@ -0,0 +1,394 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.validator;
+
+import org.apache.xmlbeans.SchemaField;
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.impl.common.IdentityConstraint;
+import org.apache.xmlbeans.impl.common.ValidatorListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Validates the elements a Validator splits off a document on other
+ * threads, while the validator goes on with the rest of the document.  The
+ * elements are validated in batches, and the results are merged in
+ * document order on the validator's thread: before any ID or IDREF value
+ * which comes after them, and at the end of the document.
+ * <p>
+ * The other threads validate without an error listener, since their events
+ * have no location.  When errors are listened for, elements which turn out
+ * to have some are validated again on the validator's thread, so that the
+ * errors are the same as those of validating in one thread; they are put
+ * in between those of the validator at the place the element was split
+ * off.  Elements which could not be read concurrently, or which have an ID
+ * already met in the document, are validated again in the same way, with
+ * the IDs of the document so far.
+ * <p>
+ * The other threads come from a pool shared by all validations, and up to
+ * parallelism - 1 of them take the batches of one validation.
+ */
+final class ParallelValidation
+{
+    ParallelValidation ( Validator validator, int parallelism, Collection errorListener )
+    {
+        _validator = validator;
+        _parallelism = parallelism;
+        _errorListener = errorListener;
+
+        if (errorListener != null)
+            _errors = new ArrayList();
+
+        _idValues =
+            new IdentityConstraint.IdValues()
+            {
+                protected void flush ( )
+                {
+                    merge();
+                }
+            };
+
+        _batches = new ArrayList();
+    }
+
+    /**
+     * The collection the validator reports its errors to until finish, or
+     * null if there is no error listener.
+     */
+    Collection errorListener ( )
+    {
+        return _errors;
+    }
+
+    /** The ID and IDREF values of the document. */
+    IdentityConstraint.IdValues idValues ( )
+    {
+        return _idValues;
+    }
+
+    /**
+     * Validates the element split off, which is an element of the given
+     * declared type and field, on another thread.
+     */
+    void split ( ValidatorListener.Subtree subtree, SchemaType type, SchemaField field )
+    {
+        if (_batch == null)
+            _batch = new Batch();
+
+        _batch._elements.add(
+            new Element( subtree, type, field, _errors == null ? 0 : _errors.size() ) );
+
+        if (_batch._elements.size() == ELEMENTS_PER_BATCH)
+            submit();
+    }
+
+    /**
+     * Waits for the elements split off so far and merges them, in document
+     * order, into the results of the validator.
+     */
+    void merge ( )
+    {
+        // Elements validated again here have IDs too
+
+        if (_merging)
+            return;
+
+        _merging = true;
+
+        try
+        {
+            submit();
+
+            int inserted = 0;
+
+            for ( int i = 0 ; i < _batches.size() ; i++ )
+            {
+                Batch batch = (Batch) _batches.get( i );
+
+                // Run it here if no other thread has started it yet
+
+                batch._task.run();
+
+                try
+                {
+                    batch._task.get();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+
+                    throw new RuntimeException( e );
+                }
+                catch ( ExecutionException e )
+                {
+                    Throwable cause = e.getCause();
+
+                    if (cause instanceof RuntimeException)
+                        throw (RuntimeException) cause;
+
+                    if (cause instanceof Error)
+                        throw (Error) cause;
+
+                    throw new RuntimeException( cause );
+                }
+
+                for ( int j = 0 ; j < batch._elements.size() ; j++ )
+                    inserted += merge( (Element) batch._elements.get( j ), inserted );
+            }
+
+            _batches.clear();
+        }
+        finally
+        {
+            _merging = false;
+        }
+    }
+
+    /**
+     * Reports the errors collected to the error listener, once everything
+     * has been merged.
+     */
+    void finish ( )
+    {
+        assert _batch == null && _batches.isEmpty();
+
+        if (_errors != null)
+            _errorListener.addAll( _errors );
+    }
+
+    /**
+     * Drops the elements split off and not merged, when the validation ends
+     * before the document does.  The batches no thread has started are
+     * cancelled, and those being validated are waited for, so that no
+     * thread reads the document once this returns.
+     */
+    void abandon ( )
+    {
+        _batch = null;
+
+        synchronized ( _queue )
+        {
+            for ( int i = 0 ; i < _batches.size() ; i++ )
+                ((Batch) _batches.get( i ))._task.cancel( false );
+
+            _queue.clear();
+
+            boolean interrupted = false;
+
+            while ( _workers > 0 )
+            {
+                try
+                {
+                    _queue.wait();
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        _batches.clear();
+    }
+
+    // Returns the number of errors inserted
+
+    private int merge ( Element e, int inserted )
+    {
+        boolean reported = e._reported && _errors != null;
+
+        if (e._complete && !reported && _idValues.addAll( e._idValues ))
+        {
+            if (!e._valid)
+                _validator.subtreeInvalid();
+            else if (!e._reported)
+                _validator.subtreeValid( e._subtree, e._type, e._field, e._idValues );
+
+            return 0;
+        }
+
+        List errors = _errors == null ? null : new ArrayList();
+
+        Validator v = _validator.newSubtreeValidator( e._type, e._field, errors, _idValues );
+
+        e._subtree.validate( v );
+
+        if (!v.isValid())
+            _validator.subtreeInvalid();
+
+        if (errors == null)
+            return 0;
+
+        _errors.addAll( e._errorIndex + inserted, errors );
+
+        return errors.size();
+    }
+
+    private void submit ( )
+    {
+        if (_batch == null)
+            return;
+
+        _batches.add( _batch );
+
+        // The validator's thread is one of the threads the document is
+        // validated on, so up to parallelism - 1 others take the batches
+
+        boolean start = false;
+
+        synchronized ( _queue )
+        {
+            _queue.add( _batch );
+
+            if (_workers < _parallelism - 1)
+            {
+                _workers++;
+                start = true;
+            }
+        }
+
+        _batch = null;
+
+        if (start)
+            executor().execute( new Worker() );
+    }
+
+    private static synchronized ExecutorService executor ( )
+    {
+        if (_executor == null)
+        {
+            _executor =
+                Executors.newCachedThreadPool(
+                    new ThreadFactory()
+                    {
+                        public Thread newThread ( Runnable r )
+                        {
+                            Thread t = new Thread( r, "xmlbeans-parallel-validation" );
+                            t.setDaemon( true );
+                            return t;
+                        }
+                    } );
+        }
+
+        return _executor;
+    }
+
+    private static ExecutorService _executor;
+
+    /**
+     * Takes the batches of one validation until there are none left.
+     */
+    private final class Worker implements Runnable
+    {
+        public void run ( )
+        {
+            for ( ; ; )
+            {
+                Batch batch;
+
+                synchronized ( _queue )
+                {
+                    batch = (Batch) _queue.poll();
+
+                    if (batch == null)
+                    {
+                        _workers--;
+                        _queue.notifyAll();
+                        return;
+                    }
+                }
+
+                batch._task.run();
+            }
+        }
+    }
+
+    private static final int ELEMENTS_PER_BATCH = 64;
+
+    private static final class Element
+    {
+        Element (
+            ValidatorListener.Subtree subtree, SchemaType type, SchemaField field,
+            int errorIndex )
+        {
+            _subtree = subtree;
+            _type = type;
+            _field = field;
+            _errorIndex = errorIndex;
+        }
+
+        final ValidatorListener.Subtree _subtree;
+        final SchemaType                _type;
+        final SchemaField               _field;
+        final int                       _errorIndex;
+
+        // Set by the thread which validates the element
+
+        boolean                     _complete;
+        boolean                     _valid;
+        boolean                     _reported;
+        IdentityConstraint.IdValues _idValues;
+    }
+
+    private final class Batch implements Callable
+    {
+        public Object call ( )
+        {
+            for ( int i = 0 ; i < _elements.size() ; i++ )
+            {
+                Element e = (Element) _elements.get( i );
+
+                e._idValues = new IdentityConstraint.IdValues();
+
+                Validator v = _validator.newSubtreeValidator( e._type, e._field, null, e._idValues );
+
+                e._complete = e._subtree.validateConcurrently( v );
+                e._valid = v.isValid();
+                e._reported = v.hasReportedErrors();
+            }
+
+            return null;
+        }
+
+        final List       _elements = new ArrayList();
+        final FutureTask _task = new FutureTask( this );
+    }
+
+    private final Validator                   _validator;
+    private final int                         _parallelism;
+    private final Collection                  _errorListener;
+    private final IdentityConstraint.IdValues _idValues;
+    private final List                        _batches;
+
+    private final LinkedList                  _queue = new LinkedList();
+
+    private List    _errors;
+    private Batch   _batch;
+    private int     _workers;  // guarded by _queue
+    private boolean _merging;
+}
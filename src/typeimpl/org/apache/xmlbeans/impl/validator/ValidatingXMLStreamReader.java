@@ -828,6 +828,18 @@ public class ValidatingXMLStreamReader
         }
 
         _validator.nextEvent(Validator.ATTR, event);
+
+        if (event == _attEvent)
+            attributeValidated(attIndex);
+    }
+
+    /**
+     * Called after an attribute of the element the stream is on is
+     * validated, for all but those in the xsi namespace.  The values the
+     * validator has read from it can be had from it until the next event.
+     */
+    protected void attributeValidated(int attIndex)
+    {
     }
 
     /**
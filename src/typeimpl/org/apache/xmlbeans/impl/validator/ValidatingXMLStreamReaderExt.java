@@ -0,0 +1,820 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.validator;
+
+import org.apache.xmlbeans.GDate;
+import org.apache.xmlbeans.GDuration;
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.XmlCalendar;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.common.InvalidLexicalValueException;
+import org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt;
+import org.apache.xmlbeans.impl.richParser.XMLStreamReaderExtImpl;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * A ValidatingXMLStreamReader which also gives the values of elements and
+ * attributes as java objects, like {@link XMLStreamReaderExtImpl} does.
+ * <p>
+ * The validator converts the values of simple types as it checks them, so
+ * decimals and the types derived from them, QNames, dates and durations
+ * are taken from it rather than converted again, when the type of the
+ * element or attribute is one of those.  Other values are converted from
+ * the text, as XMLStreamReaderExtImpl does.  Reading the value of an
+ * element moves the stream to its end, validating its content.
+ */
+public class ValidatingXMLStreamReaderExt
+    extends ValidatingXMLStreamReader
+    implements XMLStreamReaderExt
+{
+    private static final int DECIMAL   = 1;
+    private static final int QNAME     = 2;
+    private static final int GDATE     = 3;
+    private static final int GDURATION = 4;
+
+    private final XMLStreamReaderExtImpl _ext;
+    private boolean _hasDefaultValue;
+    private Object _value;
+
+    // The values the validator read from the attributes of the element the
+    // stream is on
+
+    private Object[] _attValues = new Object[8];
+    private int _attCount;
+
+    /**
+     * Default constructor. Use init(...) to set the params.
+     * See {@link #init}
+     */
+    public ValidatingXMLStreamReaderExt()
+    {
+        super();
+        _ext = new XMLStreamReaderExtImpl(this);
+    }
+
+    public void init(XMLStreamReader xsr, boolean startWithCurrentEvent, SchemaType contentType,
+                     SchemaTypeLoader stl, XmlOptions options, Collection errorListener)
+    {
+        _attCount = 0;
+        _hasDefaultValue = false;
+        _value = null;
+
+        super.init(xsr, startWithCurrentEvent, contentType, stl, options, errorListener);
+    }
+
+    public int next() throws XMLStreamException
+    {
+        _attCount = 0;
+
+        return super.next();
+    }
+
+    protected void validate_attributes(int attCount)
+    {
+        if (isStartElement())
+        {
+            if (attCount > _attValues.length)
+                _attValues = new Object[attCount];
+
+            for (int i = 0; i < attCount; i++)
+                _attValues[i] = null;
+
+            _attCount = attCount;
+        }
+
+        super.validate_attributes(attCount);
+    }
+
+    protected void attributeValidated(int attIndex)
+    {
+        if (attIndex < _attCount)
+            _attValues[attIndex] = validatorValue();
+    }
+
+    private Object validatorValue()
+    {
+        if (_validator.getDecimalValue() != null)
+            return _validator.getDecimalValue();
+
+        if (_validator.getQNameValue() != null)
+            return _validator.getQNameValue();
+
+        if (_validator.getGDateValue() != null)
+            return _validator.getGDateValue();
+
+        return _validator.getGDurationValue();
+    }
+
+    private Object attributeValue(int index)
+    {
+        return _hasDefaultValue || index >= _attCount ? null : _attValues[index];
+    }
+
+    private int attributeIndex(String uri, String local)
+    {
+        if (_hasDefaultValue)
+            return -1;
+
+        for (int i = 0; i < _attCount; i++)
+        {
+            if (local.equals(getAttributeLocalName(i)))
+            {
+                String ns = getAttributeNamespace(i);
+
+                if (uri == null || uri.equals(ns == null ? "" : ns))
+                    return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reads the value of the element the stream is on from the validator
+     * into _value, if the validator reads values of the given kind from it,
+     * and moves to the end of the element.  Otherwise returns false without
+     * moving, and the value is to be converted from the text.
+     */
+    private boolean readValue(int kind)
+        throws XMLStreamException
+    {
+        if (_hasDefaultValue || !isStartElement() || _validator == null || _validator.isSkipping())
+            return false;
+
+        SchemaType type = _validator.getCurrentElementSchemaType();
+
+        if (type == null || type.isNoType())
+            return false;
+
+        if (!type.isSimpleType())
+        {
+            if (type.getContentType() != SchemaType.SIMPLE_CONTENT)
+                return false;
+
+            type = type.getContentBasedOnType();
+        }
+
+        if (type.getSimpleVariety() != SchemaType.ATOMIC)
+            return false;
+
+        switch (type.getPrimitiveType().getBuiltinTypeCode())
+        {
+        case SchemaType.BTC_DECIMAL:
+            if (kind != DECIMAL)
+                return false;
+            break;
+
+        case SchemaType.BTC_QNAME:
+            if (kind != QNAME)
+                return false;
+            break;
+
+        case SchemaType.BTC_DATE_TIME:
+        case SchemaType.BTC_TIME:
+        case SchemaType.BTC_DATE:
+        case SchemaType.BTC_G_YEAR_MONTH:
+        case SchemaType.BTC_G_YEAR:
+        case SchemaType.BTC_G_MONTH_DAY:
+        case SchemaType.BTC_G_DAY:
+        case SchemaType.BTC_G_MONTH:
+            if (kind != GDATE)
+                return false;
+            break;
+
+        case SchemaType.BTC_DURATION:
+            if (kind != GDURATION)
+                return false;
+            break;
+
+        default:
+            return false;
+        }
+
+        // The text is validated at its first event, or at the end if
+        // there is none, when the default value is
+
+        _value = null;
+
+        boolean sawValue = false;
+        String error = null;
+        int depth = 0;
+
+        while (true)
+        {
+            switch (next())
+            {
+            case XMLStreamReader.CDATA:
+            case XMLStreamReader.CHARACTERS:
+                if (depth == 0 && !sawValue)
+                {
+                    _value = validatorValue();
+                    sawValue = true;
+                }
+                break;
+
+            case XMLStreamReader.START_ELEMENT:
+                depth++;
+                error = "Unexpected element '" + getName() + "' in text content.";
+                break;
+
+            case XMLStreamReader.END_ELEMENT:
+                if (depth-- > 0)
+                    break;
+
+                if (!sawValue)
+                    _value = validatorValue();
+
+                if (error != null)
+                    throw new XMLStreamException(error);
+
+                return true;
+
+            case XMLStreamReader.END_DOCUMENT:
+                throw new XMLStreamException("Unexpected end of document in text content.");
+            }
+        }
+    }
+
+    private InvalidLexicalValueException invalid(String type)
+    {
+        return new InvalidLexicalValueException("Invalid " + type + " value", getLocation());
+    }
+
+    /**
+     * The decimal value without the zeros at the end of its fraction, which
+     * are not significant in the xml value space, as XMLStreamReaderExtImpl
+     * gives it.
+     */
+    private BigDecimal decimalValue(Object value, String type)
+    {
+        if (!(value instanceof BigDecimal))
+            throw invalid(type);
+
+        BigDecimal d = (BigDecimal) value;
+
+        if (d.scale() <= 0)
+            return d;
+
+        BigInteger unscaled = d.unscaledValue();
+        int scale = d.scale();
+
+        while (scale > 0 && !unscaled.testBit(0))
+        {
+            BigInteger[] qr = unscaled.divideAndRemainder(BigInteger.TEN);
+
+            if (qr[1].signum() != 0)
+                break;
+
+            unscaled = qr[0];
+            scale--;
+        }
+
+        return scale == d.scale() ? d : new BigDecimal(unscaled, scale);
+    }
+
+    private long longValue(Object value, int bits, String type)
+    {
+        BigDecimal d = decimalValue(value, type);
+
+        if (d.scale() > 0 || d.unscaledValue().bitLength() > bits)
+            throw invalid(type);
+
+        return d.longValue();
+    }
+
+    private BigInteger bigIntegerValue(Object value)
+    {
+        BigDecimal d = decimalValue(value, "integer");
+
+        if (d.scale() > 0)
+            throw invalid("integer");
+
+        return d.toBigInteger();
+    }
+
+    private QName qnameValue(Object value)
+    {
+        if (!(value instanceof QName))
+            throw invalid("QName");
+
+        return (QName) value;
+    }
+
+    private GDate gdateValue(Object value)
+    {
+        if (!(value instanceof GDate))
+            throw invalid("date");
+
+        return (GDate) value;
+    }
+
+    private GDuration gdurationValue(Object value)
+    {
+        if (!(value instanceof GDuration))
+            throw invalid("duration");
+
+        return (GDuration) value;
+    }
+
+    // XMLStreamReaderExt methods
+
+    public String getStringValue() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getStringValue();
+    }
+
+    public String getStringValue(int wsStyle) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getStringValue(wsStyle);
+    }
+
+    public boolean getBooleanValue() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getBooleanValue();
+    }
+
+    public byte getByteValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return (byte) longValue(_value, 7, "byte");
+
+        _hasDefaultValue = false;
+        return _ext.getByteValue();
+    }
+
+    public short getShortValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return (short) longValue(_value, 15, "short");
+
+        _hasDefaultValue = false;
+        return _ext.getShortValue();
+    }
+
+    public int getIntValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return (int) longValue(_value, 31, "int");
+
+        _hasDefaultValue = false;
+        return _ext.getIntValue();
+    }
+
+    public long getLongValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return longValue(_value, 63, "long");
+
+        _hasDefaultValue = false;
+        return _ext.getLongValue();
+    }
+
+    public BigInteger getBigIntegerValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return bigIntegerValue(_value);
+
+        _hasDefaultValue = false;
+        return _ext.getBigIntegerValue();
+    }
+
+    public BigDecimal getBigDecimalValue() throws XMLStreamException
+    {
+        if (readValue(DECIMAL))
+            return decimalValue(_value, "decimal");
+
+        _hasDefaultValue = false;
+        return _ext.getBigDecimalValue();
+    }
+
+    public float getFloatValue() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getFloatValue();
+    }
+
+    public double getDoubleValue() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getDoubleValue();
+    }
+
+    public InputStream getHexBinaryValue() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getHexBinaryValue();
+    }
+
+    public InputStream getBase64Value() throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getBase64Value();
+    }
+
+    public XmlCalendar getCalendarValue() throws XMLStreamException
+    {
+        if (readValue(GDATE))
+            return gdateValue(_value).getCalendar();
+
+        _hasDefaultValue = false;
+        return _ext.getCalendarValue();
+    }
+
+    public Date getDateValue() throws XMLStreamException
+    {
+        if (readValue(GDATE))
+            return gdateValue(_value).getDate();
+
+        _hasDefaultValue = false;
+        return _ext.getDateValue();
+    }
+
+    public GDate getGDateValue() throws XMLStreamException
+    {
+        if (readValue(GDATE))
+            return gdateValue(_value);
+
+        _hasDefaultValue = false;
+        return _ext.getGDateValue();
+    }
+
+    public GDuration getGDurationValue() throws XMLStreamException
+    {
+        if (readValue(GDURATION))
+            return gdurationValue(_value);
+
+        _hasDefaultValue = false;
+        return _ext.getGDurationValue();
+    }
+
+    public QName getQNameValue() throws XMLStreamException
+    {
+        if (readValue(QNAME))
+            return qnameValue(_value);
+
+        _hasDefaultValue = false;
+        return _ext.getQNameValue();
+    }
+
+    public String getAttributeStringValue(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeStringValue(index);
+    }
+
+    public String getAttributeStringValue(int index, int wsStyle) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeStringValue(index, wsStyle);
+    }
+
+    public boolean getAttributeBooleanValue(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeBooleanValue(index);
+    }
+
+    public byte getAttributeByteValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return (byte) longValue(value, 7, "byte");
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeByteValue(index);
+    }
+
+    public short getAttributeShortValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return (short) longValue(value, 15, "short");
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeShortValue(index);
+    }
+
+    public int getAttributeIntValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return (int) longValue(value, 31, "int");
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeIntValue(index);
+    }
+
+    public long getAttributeLongValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return longValue(value, 63, "long");
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeLongValue(index);
+    }
+
+    public BigInteger getAttributeBigIntegerValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return bigIntegerValue(value);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeBigIntegerValue(index);
+    }
+
+    public BigDecimal getAttributeBigDecimalValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof BigDecimal)
+            return decimalValue(value, "decimal");
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeBigDecimalValue(index);
+    }
+
+    public float getAttributeFloatValue(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeFloatValue(index);
+    }
+
+    public double getAttributeDoubleValue(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeDoubleValue(index);
+    }
+
+    public InputStream getAttributeHexBinaryValue(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeHexBinaryValue(index);
+    }
+
+    public InputStream getAttributeBase64Value(int index) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeBase64Value(index);
+    }
+
+    public XmlCalendar getAttributeCalendarValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof GDate)
+            return ((GDate) value).getCalendar();
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeCalendarValue(index);
+    }
+
+    public Date getAttributeDateValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof GDate)
+            return ((GDate) value).getDate();
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeDateValue(index);
+    }
+
+    public GDate getAttributeGDateValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof GDate)
+            return (GDate) value;
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeGDateValue(index);
+    }
+
+    public GDuration getAttributeGDurationValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof GDuration)
+            return (GDuration) value;
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeGDurationValue(index);
+    }
+
+    public QName getAttributeQNameValue(int index) throws XMLStreamException
+    {
+        Object value = attributeValue(index);
+
+        if (value instanceof QName)
+            return (QName) value;
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeQNameValue(index);
+    }
+
+    public String getAttributeStringValue(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeStringValue(uri, local);
+    }
+
+    public String getAttributeStringValue(String uri, String local, int wsStyle) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeStringValue(uri, local, wsStyle);
+    }
+
+    public boolean getAttributeBooleanValue(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeBooleanValue(uri, local);
+    }
+
+    public byte getAttributeByteValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeByteValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeByteValue(uri, local);
+    }
+
+    public short getAttributeShortValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeShortValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeShortValue(uri, local);
+    }
+
+    public int getAttributeIntValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeIntValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeIntValue(uri, local);
+    }
+
+    public long getAttributeLongValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeLongValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeLongValue(uri, local);
+    }
+
+    public BigInteger getAttributeBigIntegerValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeBigIntegerValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeBigIntegerValue(uri, local);
+    }
+
+    public BigDecimal getAttributeBigDecimalValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeBigDecimalValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeBigDecimalValue(uri, local);
+    }
+
+    public float getAttributeFloatValue(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeFloatValue(uri, local);
+    }
+
+    public double getAttributeDoubleValue(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeDoubleValue(uri, local);
+    }
+
+    public InputStream getAttributeHexBinaryValue(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeHexBinaryValue(uri, local);
+    }
+
+    public InputStream getAttributeBase64Value(String uri, String local) throws XMLStreamException
+    {
+        _hasDefaultValue = false;
+        return _ext.getAttributeBase64Value(uri, local);
+    }
+
+    public XmlCalendar getAttributeCalendarValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeCalendarValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeCalendarValue(uri, local);
+    }
+
+    public Date getAttributeDateValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeDateValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeDateValue(uri, local);
+    }
+
+    public GDate getAttributeGDateValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeGDateValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeGDateValue(uri, local);
+    }
+
+    public GDuration getAttributeGDurationValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeGDurationValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeGDurationValue(uri, local);
+    }
+
+    public QName getAttributeQNameValue(String uri, String local) throws XMLStreamException
+    {
+        int index = attributeIndex(uri, local);
+
+        if (index >= 0)
+            return getAttributeQNameValue(index);
+
+        _hasDefaultValue = false;
+        return _ext.getAttributeQNameValue(uri, local);
+    }
+
+    /**
+     * Sets the default value for the next getXXXValue() call.  That value
+     * is converted from the text, since it is the one given here rather
+     * than the validator's when there is none.
+     */
+    public void setDefaultValue(String defaultValue) throws XMLStreamException
+    {
+        _hasDefaultValue = defaultValue != null;
+        _ext.setDefaultValue(defaultValue);
+    }
+}
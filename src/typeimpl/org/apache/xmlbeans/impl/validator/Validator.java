@@ -21,6 +21,7 @@ import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.ValidatorListener;
 import org.apache.xmlbeans.impl.common.XmlWhitespace;
 import org.apache.xmlbeans.impl.common.InvalidLexicalValueException;
+import org.apache.xmlbeans.impl.schema.ContentModelAutomaton;
 import org.apache.xmlbeans.impl.schema.SchemaTypeVisitorImpl;
 import org.apache.xmlbeans.impl.schema.SchemaTypeImpl;
 import org.apache.xmlbeans.impl.values.JavaBase64HolderEx;
@@ -76,6 +77,12 @@ import javax.xml.namespace.QName;
 public final class Validator
     implements ValidatorListener
 {
+    /**
+     * Option to check element order by interpreting content models rather
+     * than with their compiled automata, for comparison.
+     */
+    public static final String INTERPRET_CONTENT_MODELS = "interpret content models";
+
     public Validator (
         SchemaType type, SchemaField field, SchemaTypeLoader globalLoader,
         XmlOptions options, Collection defaultErrorListener )
@@ -84,11 +91,32 @@ public final class Validator
         _errorListener = (Collection) options.get(XmlOptions.ERROR_LISTENER);
         _treatLaxAsSkip = options.hasOption(XmlOptions.VALIDATE_TREAT_LAX_AS_SKIP);
         _strict = options.hasOption(XmlOptions.VALIDATE_STRICT);
+        _interpretContentModels = options.hasOption(INTERPRET_CONTENT_MODELS);
+
+        if (options.hasOption(XmlOptions.VALIDATE_PARALLELISM))
+            _parallelism = ((Integer) options.get(XmlOptions.VALIDATE_PARALLELISM)).intValue();
+
+        _remember = options.hasOption(XmlOptions.VALIDATE_INCREMENTALLY);
+
+        if (options.hasOption(XmlOptions.VALIDATE_ERROR_LIMIT))
+            _errorLimit = ((Integer) options.get(XmlOptions.VALIDATE_ERROR_LIMIT)).intValue();
 
         if (_errorListener == null)
             _errorListener = defaultErrorListener;
 
-        _constraintEngine = new IdentityConstraint(_errorListener, type.isDocumentType());
+        // The IDREFs of elements remembered are kept even when they are not
+        // checked, for when the whole document is validated
+
+        _constraintEngine =
+            new IdentityConstraint(
+                _errorListener, type.isDocumentType(),
+                _remember ? new IdentityConstraint.IdValues() : null)
+            {
+                protected boolean reportError ( )
+                {
+                    return Validator.this.reportError();
+                }
+            };
 
         _globalTypes = globalLoader;
         _rootType = type;
@@ -97,6 +125,59 @@ public final class Validator
         _vc = new ValidatorVC();
     }
 
+    // For the elements split off by parallel validation
+
+    private Validator (
+        Validator parent, SchemaType type, SchemaField field,
+        Collection errorListener, IdentityConstraint.IdValues idValues )
+    {
+        _errorListener = errorListener;
+        _treatLaxAsSkip = parent._treatLaxAsSkip;
+        _strict = parent._strict;
+        _interpretContentModels = parent._interpretContentModels;
+
+        _constraintEngine = new IdentityConstraint(_errorListener, false, idValues);
+
+        _globalTypes = parent._globalTypes;
+        _rootType = type;
+        _rootField = field;
+
+        _vc = new ValidatorVC();
+    }
+
+    Validator newSubtreeValidator (
+        SchemaType type, SchemaField field,
+        Collection errorListener, IdentityConstraint.IdValues idValues )
+    {
+        return new Validator( this, type, field, errorListener, idValues );
+    }
+
+    /**
+     * True if an error, of any severity, has been reported, whether or not
+     * there is an error listener.
+     */
+    boolean hasReportedErrors ( )
+    {
+        return _reported > 0;
+    }
+
+    void subtreeInvalid ( )
+    {
+        _invalid = true;
+    }
+
+    /**
+     * Called for an element split off which was found valid, with no
+     * warnings, by a subtree validator.
+     */
+    void subtreeValid (
+        ValidatorListener.Subtree subtree, SchemaType type, SchemaField field,
+        IdentityConstraint.IdValues idValues )
+    {
+        if (_remember)
+            subtree.remember( new Remembered( this, type, field, idValues ) );
+    }
+
     private class ValidatorVC implements ValidationContext
     {
         // KHK: remove this
@@ -126,6 +207,21 @@ public final class Validator
         return !_invalid && _constraintEngine.isValid();
     }
 
+    /**
+     * To be called once the events stop, whether or not the document has
+     * ended: if it has not, because reading it failed, the elements split
+     * off to be validated on other threads are dropped, and those threads
+     * have stopped reading the document once this returns.
+     */
+    public void abandon ( )
+    {
+        if (_subtrees != null)
+        {
+            _subtrees.abandon();
+            _subtrees = null;
+        }
+    }
+
     // KHK: remove this
     private void emitError ( Event event, String message, QName offendingQName,
                              SchemaType expectedSchemaType, List expectedQNames,
@@ -154,8 +250,17 @@ public final class Validator
         if (_suspendErrors == 0)
         {
             if (severity == XmlError.SEVERITY_ERROR)
+            {
                 _invalid = true;
 
+                if (!reportError())
+                    return;
+            }
+            else if (_stopped)
+                return;
+
+            _reported++;
+
             if (_errorListener != null)
             {
                 assert event != null;
@@ -181,6 +286,39 @@ public final class Validator
         }
     }
 
+    /**
+     * Counts an error against the error limit, and returns false if it is
+     * past the limit and is not to be reported.  The rest of the document
+     * is not validated once the limit is reached, but elements split off
+     * are merged at its end.
+     */
+    private boolean reportError ( )
+    {
+        if (_stopped)
+            return false;
+
+        if (++_errors == _errorLimit && _subtrees == null)
+            _stopped = true;
+
+        return true;
+    }
+
+    /**
+     * Records an error without its details when no error listener would
+     * see them, and returns true; otherwise returns false, and the caller
+     * reports the error.
+     */
+    private boolean errorUnheard ( )
+    {
+        if (_errorListener != null && _suspendErrors == 0)
+            return false;
+
+        emitError(null, null, null, null, XmlError.SEVERITY_ERROR, null, null, null, null,
+            XmlValidationError.INCORRECT_ELEMENT, null);
+
+        return true;
+    }
+
     private void emitFieldError ( Event event, String code, Object[] args, QName offendingQName,
                                   SchemaType expectedSchemaType, List expectedQNames,
                                   int errorType, SchemaType badSchemaType )
@@ -220,6 +358,9 @@ public final class Validator
 
     public void nextEvent ( int kind, Event event )
     {
+        if (_stopped)
+            return;
+
         resetValues();
 
         if (_eatContent > 0)
@@ -245,6 +386,9 @@ public final class Validator
             case END      : endEvent(      event ); break;
             }
         }
+
+        if (_stopped && event instanceof StoppableEvent)
+            ((StoppableEvent) event).stop();
     }
 
     private void beginEvent ( Event event )
@@ -256,10 +400,18 @@ public final class Validator
         SchemaType  elementType  = null;
         SchemaField elementField = null;
 
+        int errorState = _errorState;
+
         if (state == null)
         {
             elementType = _rootType;
             elementField = _rootField;
+
+            if (_parallelism > 1 && event instanceof SplittableEvent)
+                startSplitting();
+
+            if (!(event instanceof RememberingEvent))
+                _remember = false;
         }
         else
         {
@@ -391,6 +543,8 @@ public final class Validator
 
         assert elementType != null;
 
+        SchemaType declaredType = elementType;
+
         //
         // the no-type is always invalid (even if there is an xsi:type)
         //
@@ -597,6 +751,39 @@ public final class Validator
                 XmlValidationError.ELEMENT_TYPE_INVALID, (state == null ? null : state._type));
         }
 
+        // Skip the repeated elements found valid the last time, unless they
+        // have changed, and remember those found valid this time
+
+        boolean rememberable =
+            _remember && state != null && errorState == _errorState &&
+                canSplit( _wildcardElement, elementType );
+
+        if (rememberable && _remembering == null)
+        {
+            Remembered r = (Remembered) ((RememberingEvent) event).getRemembered();
+
+            if (r != null && r.isFor( this, declaredType, elementField ) &&
+                _constraintEngine.addIdValues( r._idValues ))
+            {
+                ((RememberingEvent) event).skip();
+
+                return;
+            }
+        }
+
+        // Leave the repeated elements of large documents to other threads.
+        // Validating one on its own starts over from its declared type and
+        // would give the errors already found here again.
+
+        if (_subtrees != null && state != null && errorState == _errorState &&
+            _remembering == null && canSplit( _wildcardElement, elementType ))
+        {
+            _subtrees.split(
+                ((SplittableEvent) event).split(), declaredType, elementField );
+
+            return;
+        }
+
         newState( elementType, elementField, isNil );
 
         // Dispatch this element event to any identity constraints
@@ -608,6 +795,9 @@ public final class Validator
             elementField instanceof SchemaLocalElement
                 ? ((SchemaLocalElement) elementField).getIdentityConstraints()
                 : null );
+
+        if (rememberable && _remembering == null)
+            startRemembering( declaredType, elementField );
     }
 
     private void attrEvent ( Event event )
@@ -797,7 +987,105 @@ public final class Validator
 
         popState( event );
 
+        if (_stateStack == null && _subtrees != null)
+            _subtrees.merge();
+
         _constraintEngine.endElement( event );
+
+        if (state == _remembering)
+            stopRemembering( (RememberingEvent) event );
+
+        if (_stateStack == null && _subtrees != null)
+        {
+            _subtrees.finish();
+            _subtrees = null;
+        }
+    }
+
+    private void startSplitting ( )
+    {
+        _subtrees = new ParallelValidation( this, _parallelism, _errorListener );
+
+        // Errors are collected until the end, as those of the split elements
+        // go in between
+
+        _errorListener = _subtrees.errorListener();
+
+        _constraintEngine =
+            new IdentityConstraint(
+                _errorListener, _rootType.isDocumentType(), _subtrees.idValues() );
+    }
+
+    private void startRemembering ( SchemaType type, SchemaField field )
+    {
+        _remembering = topState();
+
+        _remembered = new Remembered( this, type, field, new IdentityConstraint.IdValues() );
+        _rememberedErrors = _reported + _constraintEngine.getErrorCount();
+
+        _constraintEngine.captureIdValues( _remembered._idValues );
+    }
+
+    private void stopRemembering ( RememberingEvent event )
+    {
+        _constraintEngine.captureIdValues( null );
+
+        // Warnings are not remembered either, as they would not be
+        // reported again
+
+        if (_rememberedErrors == _reported + _constraintEngine.getErrorCount())
+            event.remember( _remembered );
+
+        _remembering = null;
+        _remembered = null;
+    }
+
+    /**
+     * What is remembered about an element found valid: the validation it
+     * was found valid by, and its ID and IDREF values.
+     */
+    private static final class Remembered
+    {
+        Remembered (
+            Validator v, SchemaType type, SchemaField field, IdentityConstraint.IdValues idValues )
+        {
+            _type = type;
+            _field = field;
+            _globalTypes = v._globalTypes;
+            _treatLaxAsSkip = v._treatLaxAsSkip;
+            _strict = v._strict;
+            _idValues = idValues;
+        }
+
+        boolean isFor ( Validator v, SchemaType type, SchemaField field )
+        {
+            return
+                _type == type && _field == field && _globalTypes == v._globalTypes &&
+                    _treatLaxAsSkip == v._treatLaxAsSkip && _strict == v._strict;
+        }
+
+        final SchemaType                  _type;
+        final SchemaField                 _field;
+        final SchemaTypeLoader            _globalTypes;
+        final boolean                     _treatLaxAsSkip;
+        final boolean                     _strict;
+        final IdentityConstraint.IdValues _idValues;
+    }
+
+    private boolean canSplit ( SchemaParticle particle, SchemaType type )
+    {
+        if (particle.getMaxOccurs() != null && particle.getIntMaxOccurs() < 2)
+            return false;
+
+        if (type.getContentType() != SchemaType.ELEMENT_CONTENT &&
+            type.getContentType() != SchemaType.MIXED_CONTENT)
+        {
+            return false;
+        }
+
+        // Keys and uniques need the values of the whole scope
+
+        return !_constraintEngine.hasSelectors();
     }
 
     private void textEvent ( Event event )
@@ -887,6 +1175,9 @@ public final class Validator
 
     private void findDetailedErrorBegin(Event event, State state, QName qName)
     {
+        if (errorUnheard())
+            return;
+
         ArrayList expectedNames = new ArrayList();
         ArrayList optionalNames = new ArrayList();
 
@@ -933,6 +1224,9 @@ public final class Validator
 
     private void findDetailedErrorEnd(Event event, State state)
     {
+        if (errorUnheard())
+            return;
+
         SchemaProperty[] eltProperties  = state._type.getElementProperties();
 
         ArrayList expectedNames = new ArrayList();
@@ -1073,7 +1367,7 @@ public final class Validator
                 state._canHaveElements = particle != null;
 
                 if (state._canHaveElements)
-                    state._visitor = initVisitor( particle );
+                    state._visitor = initVisitor( particle, contentModelAutomaton( type ) );
 
                 break;
 
@@ -1109,19 +1403,28 @@ public final class Validator
         _visitorPool.add( visitor );
     }
 
-    private SchemaTypeVisitorImpl initVisitor( SchemaParticle particle )
+    private SchemaTypeVisitorImpl initVisitor(
+        SchemaParticle particle, ContentModelAutomaton automaton )
     {
         if (_visitorPool.isEmpty())
-            return new SchemaTypeVisitorImpl( particle );
+            return new SchemaTypeVisitorImpl( particle, automaton );
 
         SchemaTypeVisitorImpl result =
             (SchemaTypeVisitorImpl) _visitorPool.removeLast();
 
-        result.init( particle );
+        result.init( particle, automaton );
 
         return result;
     }
 
+    private ContentModelAutomaton contentModelAutomaton( SchemaType type )
+    {
+        if (_interpretContentModels || !(type instanceof SchemaTypeImpl))
+            return null;
+
+        return ((SchemaTypeImpl) type).getContentModelAutomaton();
+    }
+
     private State topState ( )
     {
         return _stateStack;
@@ -1776,10 +2079,21 @@ public final class Validator
     private Collection         _errorListener;
     private boolean            _treatLaxAsSkip;
     private boolean            _strict;
+    private boolean            _interpretContentModels;
     private ValidatorVC        _vc;
     private int                _suspendErrors;
     private IdentityConstraint _constraintEngine;
     private int                _eatContent;
+    private int                _reported;
+    private boolean            _remember;
+    private State              _remembering;
+    private Remembered         _remembered;
+    private int                _rememberedErrors;
+    private int                _parallelism;
+    private ParallelValidation _subtrees;
+    private int                _errorLimit;
+    private int                _errors;
+    private boolean            _stopped;
 
     private SchemaLocalElement   _localElement;
     private SchemaParticle       _wildcardElement;
@@ -1884,6 +2198,17 @@ public final class Validator
         return _wildcardAttribute;
     }
 
+    /**
+     * Returns true if the content the validator is in is not validated,
+     * being that of an element which is not expected, or one matched by a
+     * skip wildcard, or coming after the error limit was reached.  Values
+     * are not read from it.
+     */
+    boolean isSkipping ( )
+    {
+        return _eatContent > 0 || _stopped;
+    }
+
     public String getStringValue()
     {
         return _stringValue;
@@ -0,0 +1,103 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.values;
+
+import org.apache.xmlbeans.impl.util.XsTypeConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A table, shared by all threads, of the canonical text of recently
+ * printed numeric values.  Documents tend to repeat the same quantities,
+ * prices and codes many times over, and each of them used to be printed
+ * into a String of its own when its element's text was built.
+ *
+ * The table is direct mapped: an entry simply replaces whatever was in its
+ * slot.  Entries are immutable, so a thread which sees an entry sees all
+ * of it, and a lost update only costs a miss.
+ */
+final class CanonicalTextCache
+{
+    private static final int SIZE = 1024; // a power of 2
+
+    private static final Entry[] _table = new Entry[SIZE];
+
+    private CanonicalTextCache()
+    {
+    }
+
+    private static final class Entry
+    {
+        final Object _value;  // null for a long
+        final long _long;
+        final String _text;
+
+        Entry(Object value, long l, String text)
+        {
+            _value = value;
+            _long = l;
+            _text = text;
+        }
+    }
+
+    private static int index(int h)
+    {
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return h & (SIZE - 1);
+    }
+
+    static String printLong(long value)
+    {
+        int i = index((int) (value ^ (value >>> 32)));
+        Entry e = _table[i];
+
+        if (e != null && e._value == null && e._long == value)
+            return e._text;
+
+        String text = Long.toString(value);
+        _table[i] = new Entry(null, value, text);
+        return text;
+    }
+
+    static String printDecimal(BigDecimal value)
+    {
+        // equals also compares the scale, which is printed
+        int i = index(value.hashCode());
+        Entry e = _table[i];
+
+        if (e != null && value.equals(e._value))
+            return e._text;
+
+        String text = XsTypeConverter.printDecimal(value);
+        _table[i] = new Entry(value, 0, text);
+        return text;
+    }
+
+    static String printInteger(BigInteger value)
+    {
+        int i = index(~value.hashCode());
+        Entry e = _table[i];
+
+        if (e != null && value.equals(e._value))
+            return e._text;
+
+        String text = value.toString();
+        _table[i] = new Entry(value, 0, text);
+        return text;
+    }
+}
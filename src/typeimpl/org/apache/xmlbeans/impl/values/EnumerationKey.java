@@ -0,0 +1,72 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.xmlbeans.impl.values;
+
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.impl.schema.SchemaTypeImpl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Turns enumeration values into keys for the enumeration facet checks of
+ * the *HolderEx classes: a value is one of the enumerated values when its
+ * key is equal to the key of one of them.  Keys must agree with the
+ * comparison each holder used to make value by value, so for example
+ * decimals are keyed by BigDecimal, whose equals depends on the scale.
+ * <p>
+ * Each key is a singleton; SchemaTypeImpl keeps a hash set of the keys of
+ * its enumeration values for each one, so checking a value does not
+ * depend on the number of enumerated values.
+ */
+public abstract class EnumerationKey
+{
+    /** Returns the key of an enumeration value. */
+    protected abstract Object keyOf(XmlObject value);
+
+    /**
+     * Returns the keys of the enumeration values of sType, or null if it
+     * has no enumeration facet.
+     */
+    public Set index(SchemaType sType)
+    {
+        if (sType instanceof SchemaTypeImpl)
+            return ((SchemaTypeImpl)sType).getEnumerationIndex(this);
+
+        return buildIndex(sType.getEnumerationValues());
+    }
+
+    /**
+     * Returns the keys of the given enumeration values, or null if there
+     * are none.
+     */
+    public Set buildIndex(XmlObject[] values)
+    {
+        if (values == null)
+            return null;
+
+        Set index = new HashSet(values.length * 2);
+
+        for (int i = 0; i < values.length; i++)
+        {
+            if (values[i] != null)
+                index.add(keyOf(values[i]));
+        }
+
+        return index;
+    }
+}
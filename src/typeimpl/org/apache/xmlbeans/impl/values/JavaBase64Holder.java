@@ -28,6 +28,10 @@ import org.apache.xmlbeans.impl.common.QNameHelper;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 
 public abstract class JavaBase64Holder extends XmlObjectBase
@@ -106,7 +110,32 @@ public abstract class JavaBase64Holder extends XmlObjectBase
         return result;
     }
 
+    public InputStream getByteStreamValue()
+    {
+        // The lexical facets are checked on the text
+        Reader text = _validateOnSet() ? null : get_text_reader();
+        if (text != null)
+            return Base64.decode(text);
+
+        check_dated();
+        if (_value == null)
+            return null;
+
+        return new ByteArrayInputStream(_value);
+    }
+
     // setters
+    public void setByteStreamValue(InputStream in) throws IOException
+    {
+        if (in == null)
+            setNil();
+        else
+        {
+            _hashcached = false;
+            set_text_reader(Base64.encode(in));
+        }
+    }
+
     protected void set_ByteArray(byte[] ba)
     {
         _hashcached = false;
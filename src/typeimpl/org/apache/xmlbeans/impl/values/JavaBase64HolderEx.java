@@ -21,8 +21,17 @@ import org.apache.xmlbeans.XmlErrorCodes;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 
+import java.nio.ByteBuffer;
+import java.util.Set;
+
 public abstract class JavaBase64HolderEx extends JavaBase64Holder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ByteBuffer.wrap(((XmlObjectBase)value).byteArrayValue()); }
+    };
+
     private SchemaType _schemaType;
 
     public SchemaType schemaType()
@@ -92,25 +101,12 @@ public abstract class JavaBase64HolderEx extends JavaBase64Holder
             }
         }
         
-        XmlObject[] vals = sType.getEnumerationValues();
+        // Byte buffers are equal when their contents are
+        Set vals = ENUMERATION_KEY.index(sType);
 
         if (vals != null)
         {
-            enumLoop: for ( i = 0 ; i < vals.length ; i++ )
-            {
-                byte[] enumBytes = ((XmlObjectBase)vals[i]).byteArrayValue();
-
-                if (enumBytes.length != v.length)
-                    continue;
-
-                for ( int j = 0 ; j < enumBytes.length ; j++ )
-                    if (enumBytes[j] != v[j])
-                        continue enumLoop;
-                
-                break;
-            }
-            
-            if (i >= vals.length)
+            if (!vals.contains(ByteBuffer.wrap(v)))
                 context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID$NO_VALUE,
                     new Object[] { "base64Binary", QNameHelper.readable(sType) });
         }
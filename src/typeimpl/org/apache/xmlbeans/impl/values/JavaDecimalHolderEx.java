@@ -23,9 +23,16 @@ import org.apache.xmlbeans.impl.common.QNameHelper;
 
 
 import java.math.BigDecimal;
+import java.util.Set;
 
 public abstract class JavaDecimalHolderEx extends JavaDecimalHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ((XmlObjectBase)value).getBigDecimalValue(); }
+    };
+
     private SchemaType _schemaType;
 
     public SchemaType schemaType()
@@ -195,12 +202,11 @@ public abstract class JavaDecimalHolderEx extends JavaDecimalHolder
         }
 
         // enumeration
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-                if (v.equals(((XmlObjectBase)vals[i]).getBigDecimalValue()))
-                    return;
+            if (vals.contains(v))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "decimal", v, QNameHelper.readable(sType) });
         }
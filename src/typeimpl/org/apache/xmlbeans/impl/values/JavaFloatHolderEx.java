@@ -20,11 +20,18 @@ import org.apache.xmlbeans.XmlObject;
 import org.apache.xmlbeans.XmlErrorCodes;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
+import java.util.Set;
 
 
 
 public abstract class JavaFloatHolderEx extends JavaFloatHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return new Float(((XmlObjectBase)value).floatValue()); }
+    };
+
     public JavaFloatHolderEx(SchemaType type, boolean complex)
         { _schemaType = type; initComplexType(complex, false); }
     
@@ -92,12 +99,12 @@ public abstract class JavaFloatHolderEx extends JavaFloatHolder
             }
         }
         
-        XmlObject[] vals = sType.getEnumerationValues();
+        // compare() is 0 exactly when Float.equals is true
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-                if (compare(v, ((XmlObjectBase)vals[i]).floatValue()) == 0)
-                    return;
+            if (vals.contains(new Float(v)))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "float", new Float(v), QNameHelper.readable(sType) });
         }
@@ -61,6 +61,27 @@ public abstract class JavaGDateHolderEx extends XmlObjectBase
         _value = newVal;
     }
 
+    // The lexical facets are checked on the text
+    protected boolean update_from_wscanon_chars()
+    {
+        if (_validateOnSet())
+            return false;
+
+        CharSequence cs = get_wscanon_chars();
+        if (cs == null || cs.length() == 0)
+            return false;
+
+        GDate date;
+        try { date = new GDate(cs); }
+        catch (Exception e) { return false; }
+
+        if (date.getBuiltinTypeCode() != _schemaType.getPrimitiveType().getBuiltinTypeCode())
+            return false;
+
+        _value = date;
+        return true;
+    }
+
     public static GDate lex(String v, SchemaType sType, ValidationContext context)
     {
         GDate date = null;
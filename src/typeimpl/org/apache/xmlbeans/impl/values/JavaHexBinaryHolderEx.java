@@ -21,9 +21,18 @@ import org.apache.xmlbeans.XmlErrorCodes;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 
+import java.nio.ByteBuffer;
+import java.util.Set;
+
 
 public abstract class JavaHexBinaryHolderEx extends JavaHexBinaryHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ByteBuffer.wrap(((XmlObjectBase)value).byteArrayValue()); }
+    };
+
     private SchemaType _schemaType;
 
 
@@ -96,25 +105,12 @@ public abstract class JavaHexBinaryHolderEx extends JavaHexBinaryHolder
             }
         }
         
-        XmlObject[] vals = sType.getEnumerationValues();
+        // Byte buffers are equal when their contents are
+        Set vals = ENUMERATION_KEY.index(sType);
 
         if (vals != null)
         {
-            enumLoop: for ( i = 0 ; i < vals.length ; i++ )
-            {
-                byte[] enumBytes = ((XmlObjectBase)vals[i]).byteArrayValue();
-
-                if (enumBytes.length != v.length)
-                    continue;
-
-                for ( int j = 0 ; j < enumBytes.length ; j++ )
-                    if (enumBytes[j] != v[j])
-                        continue enumLoop;
-                
-                break;
-            }
-            
-            if (i >= vals.length)
+            if (!vals.contains(ByteBuffer.wrap(v)))
                 context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID$NO_VALUE,
                     new Object[] { "hexBinary", QNameHelper.readable(sType) });
         }
@@ -36,12 +36,25 @@ public abstract class JavaIntHolder extends XmlObjectBase
     // SIMPLE VALUE ACCESSORS BELOW -------------------------------------------
 
     // gets raw text value
-    public String compute_text(NamespaceManager nsm) { return Long.toString(_value); }
+    public String compute_text(NamespaceManager nsm) { return CanonicalTextCache.printLong(_value); }
     protected void set_text(String s)
     {
         try { set_int(XsTypeConverter.lexInt(s)); }
         catch (Exception e) { throw new XmlValueOutOfRangeException(XmlErrorCodes.INT, new Object[] { s }); }
     }
+    protected boolean update_from_wscanon_chars()
+    {
+        CharSequence cs = get_wscanon_chars();
+        if (cs == null || cs.length() == 0)
+            return false;
+
+        int v;
+        try { v = XsTypeConverter.lexInt(cs); }
+        catch (NumberFormatException e) { return false; }
+
+        set_int(v);
+        return true;
+    }
     protected void set_nil()
     {
         _value = 0;
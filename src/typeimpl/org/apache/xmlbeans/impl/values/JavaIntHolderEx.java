@@ -21,9 +21,16 @@ import org.apache.xmlbeans.SchemaType;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 import org.apache.xmlbeans.impl.util.XsTypeConverter;
+import java.util.Set;
 
 public abstract class JavaIntHolderEx extends JavaIntHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return new Integer(getIntValue(value)); }
+    };
+
     public JavaIntHolderEx(SchemaType type, boolean complex)
         { _schemaType = type; initComplexType(complex, false); }
         
@@ -49,6 +56,12 @@ public abstract class JavaIntHolderEx extends JavaIntHolder
         super.set_int(v);
     }
     
+    // The lexical facets are checked on the text
+    protected boolean update_from_wscanon_chars()
+    {
+        return !_validateOnSet() && super.update_from_wscanon_chars();
+    }
+
     protected void set_int(int v)
     {
         if (_validateOnSet())
@@ -144,14 +157,11 @@ public abstract class JavaIntHolderEx extends JavaIntHolder
         }
 
         // enumeration
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-            {
-                if (v == getIntValue(vals[i]))
-                    return;
-            }
+            if (vals.contains(new Integer(v)))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "int", new Integer(v), QNameHelper.readable(sType) });
         }
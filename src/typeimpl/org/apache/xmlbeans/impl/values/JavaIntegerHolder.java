@@ -36,7 +36,7 @@ public abstract class JavaIntegerHolder extends XmlObjectBase
     // SIMPLE VALUE ACCESSORS BELOW -------------------------------------------
 
     // gets/sets raw text value
-    protected String compute_text(NamespaceManager nsm) { return _value.toString(); }
+    protected String compute_text(NamespaceManager nsm) { return CanonicalTextCache.printInteger(_value); }
     protected void set_text(String s)
     {
         set_BigInteger(lex(s, _voorVc));
@@ -23,9 +23,16 @@ import org.apache.xmlbeans.SchemaType;
 import org.apache.xmlbeans.XmlPositiveInteger;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
+import java.util.Set;
 
 public class JavaIntegerHolderEx extends JavaIntegerHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return getBigIntegerValue(value); }
+    };
+
     public JavaIntegerHolderEx(SchemaType type, boolean complex)
         { _schemaType = type; initComplexType(complex, false); }
     
@@ -145,14 +152,11 @@ public class JavaIntegerHolderEx extends JavaIntegerHolder
         }
 
         // enumeration
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-            {
-                if (v.equals(getBigIntegerValue(vals[i])))
-                    return;
-            }
+            if (vals.contains(v))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "integer", v, QNameHelper.readable(sType) });
         }
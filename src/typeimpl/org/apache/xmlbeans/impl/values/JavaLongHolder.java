@@ -36,12 +36,25 @@ public abstract class JavaLongHolder extends XmlObjectBase
     // SIMPLE VALUE ACCESSORS BELOW -------------------------------------------
 
     // gets raw text value
-    protected String compute_text(NamespaceManager nsm) { return Long.toString(_value); }
+    protected String compute_text(NamespaceManager nsm) { return CanonicalTextCache.printLong(_value); }
     protected void set_text(String s)
     {
         try { set_long(XsTypeConverter.lexLong(s)); }
         catch (Exception e) { throw new XmlValueOutOfRangeException(XmlErrorCodes.LONG, new Object[] { s }); }
     }
+    protected boolean update_from_wscanon_chars()
+    {
+        CharSequence cs = get_wscanon_chars();
+        if (cs == null || cs.length() == 0)
+            return false;
+
+        long v;
+        try { v = XsTypeConverter.lexLong(cs); }
+        catch (NumberFormatException e) { return false; }
+
+        set_long(v);
+        return true;
+    }
     protected void set_nil()
     {
         _value = 0L;
@@ -21,9 +21,16 @@ import org.apache.xmlbeans.SchemaType;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 import org.apache.xmlbeans.impl.util.XsTypeConverter;
+import java.util.Set;
 
 public abstract class JavaLongHolderEx extends JavaLongHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return new Long(getLongValue(value)); }
+    };
+
     public JavaLongHolderEx(SchemaType type, boolean complex)
         { _schemaType = type; initComplexType(complex, false); }
         
@@ -49,6 +56,12 @@ public abstract class JavaLongHolderEx extends JavaLongHolder
         super.set_long(v);
     }
     
+    // The lexical facets are checked on the text
+    protected boolean update_from_wscanon_chars()
+    {
+        return !_validateOnSet() && super.update_from_wscanon_chars();
+    }
+
     protected void set_long(long v)
     {
         if (_validateOnSet())
@@ -144,14 +157,11 @@ public abstract class JavaLongHolderEx extends JavaLongHolder
         }
 
         // enumeration
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-            {
-                if (v == getLongValue(vals[i]))
-                    return;
-            }
+            if (vals.contains(new Long(v)))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "long", new Long(v), QNameHelper.readable(sType) });
         }
@@ -24,9 +24,16 @@ import org.apache.xmlbeans.impl.common.PrefixResolver;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 
 import javax.xml.namespace.QName;
+import java.util.Set;
 
 public abstract class JavaQNameHolderEx extends JavaQNameHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ((XmlObjectBase)value).getQNameValue(); }
+    };
+
     private SchemaType _schemaType;
 
 
@@ -124,12 +131,11 @@ public abstract class JavaQNameHolderEx extends JavaQNameHolder
 
     public static void validateValue(QName v, SchemaType sType, ValidationContext context)
     {
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-                if (v.equals(((XmlObjectBase)vals[i]).getQNameValue()))
-                    return;
+            if (vals.contains(v))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "QName", v, QNameHelper.readable(sType) });
         }
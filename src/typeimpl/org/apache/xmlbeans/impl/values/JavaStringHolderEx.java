@@ -21,9 +21,16 @@ import org.apache.xmlbeans.XmlErrorCodes;
 import org.apache.xmlbeans.XmlAnySimpleType;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
+import java.util.Set;
 
 public abstract class JavaStringHolderEx extends JavaStringHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ((XmlAnySimpleType)value).getStringValue(); }
+    };
+
     private SchemaType _schemaType;
 
     public SchemaType schemaType()
@@ -108,14 +115,11 @@ public abstract class JavaStringHolderEx extends JavaStringHolder
         // here since we may be validating against a string enum value
         // during StscSimpleTypeResolver.resolveFacets() and the string
         // enum table hasn't been constructed yet.
-        XmlAnySimpleType[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
         if (vals != null)
         {
-            for (int i = 0; i < vals.length; i++)
-            {
-                if (v.equals(vals[i].getStringValue()))
-                    return;
-            }
+            if (vals.contains(v))
+                return;
             context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                 new Object[] { "string", v, QNameHelper.readable(sType) });
         }
@@ -22,8 +22,16 @@ import org.apache.xmlbeans.XmlErrorCodes;
 import org.apache.xmlbeans.impl.common.ValidationContext;
 import org.apache.xmlbeans.impl.common.QNameHelper;
 
+import java.util.Set;
+
 public class JavaUriHolderEx extends JavaUriHolder
 {
+    private static final EnumerationKey ENUMERATION_KEY = new EnumerationKey()
+    {
+        protected Object keyOf(XmlObject value)
+            { return ((SimpleValue)value).getStringValue(); }
+    };
+
     private SchemaType _schemaType;
 
     public SchemaType schemaType()
@@ -64,21 +72,11 @@ public class JavaUriHolderEx extends JavaUriHolder
     {
         XmlAnyUriImpl.validateLexical(v, context);
         
-        XmlObject[] vals = sType.getEnumerationValues();
+        Set vals = ENUMERATION_KEY.index(sType);
 
         if (vals != null)
         {
-            int i;
-            
-            for ( i = 0 ; i < vals.length ; i++ )
-            {
-                String e = ((SimpleValue)vals[i]).getStringValue();
-
-                if (e.equals( v ))
-                    break;
-            }
-            
-            if (i >= vals.length)
+            if (!vals.contains( v ))
                 context.invalid(XmlErrorCodes.DATATYPE_ENUM_VALID,
                     new Object[] { "anyURI", v, QNameHelper.readable(sType) });
         }
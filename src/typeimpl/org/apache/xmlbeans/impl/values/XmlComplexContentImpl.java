@@ -141,48 +141,20 @@ public class XmlComplexContentImpl extends XmlObjectBase
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).objectSet( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).objectSet( sources[ i ] );
     }
 
     protected SimpleValue[] arraySetterHelper ( int sourcesLength, QName elemName )
     {
         SimpleValue[] dests = new SimpleValue[sourcesLength];
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > sourcesLength ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] users = get_store().resize_element_users( elemName, sourcesLength );
 
         for ( int i = 0 ; i < sourcesLength ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            dests[i] = (SimpleValue) user;
-        }
+            dests[i] = (SimpleValue) users[i];
 
         return dests;
     }
@@ -191,24 +163,10 @@ public class XmlComplexContentImpl extends XmlObjectBase
     {
         SimpleValue[] dests = new SimpleValue[sourcesLength];
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > sourcesLength ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] users = get_store().resize_element_users( set, elemName, sourcesLength );
 
         for ( int i = 0 ; i < sourcesLength ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            dests[i] = (SimpleValue) user;
-        }
+            dests[i] = (SimpleValue) users[i];
 
         return dests;
     }
@@ -217,888 +175,370 @@ public class XmlComplexContentImpl extends XmlObjectBase
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( float[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( double[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( byte[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( short[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( int[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( long[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( BigDecimal[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( BigInteger[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( String[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( byte[][] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( GDate[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( GDuration[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( Calendar[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( Date[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( QName[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( StringEnumAbstractBase[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( List[] sources, QName elemName )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( elemName );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( elemName, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( elemName, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void unionArraySetterHelper ( Object[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).objectSet( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).objectSet( sources[ i ] );
     }
 
     protected void arraySetterHelper ( boolean[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( float[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( double[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( byte[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( short[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( int[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( long[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( BigDecimal[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( BigInteger[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( String[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( byte[][] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( GDate[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( GDuration[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( Calendar[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( Date[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
 
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( QName[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( StringEnumAbstractBase[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
 
-        int m = store.count_elements( set );
-
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
     
     protected void arraySetterHelper ( List[] sources, QName elemName, QNameSet set )
     {
         int n = sources == null ? 0 : sources.length;
-        
-        TypeStore store = get_store();
-
-        int m = store.count_elements( set );
 
-        for ( ; m > n ; m-- )
-            store.remove_element( set, m - 1 );
+        TypeStoreUser[] dests = get_store().resize_element_users( set, elemName, n );
 
         for ( int i = 0 ; i < n ; i++ )
-        {
-            TypeStoreUser user;
-            
-            if (i >= m)
-                user = store.add_element_user( elemName );
-            else
-                user = store.find_element_user( set, i );
-
-            ((XmlObjectBase) user).set( sources[ i ] );
-        }
+            ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
     }
 
     protected void arraySetterHelper ( XmlObject[] sources, QName elemName )
@@ -1107,9 +547,7 @@ public class XmlComplexContentImpl extends XmlObjectBase
 
         if (sources == null || sources.length == 0)
         {
-            int m = store.count_elements( elemName );
-            for ( ; m > 0 ; m-- )
-                store.remove_element( elemName, 0 );
+            store.resize_element_users( elemName, 0 );
             return;
         }
 
@@ -1179,7 +617,13 @@ public class XmlComplexContentImpl extends XmlObjectBase
         {
             // All of the elements in the existing array are to
             // be deleted and replaced with elements from the
-            // sources array
+            // sources array, so they are set in place, in order
+            TypeStoreUser[] dests = store.resize_element_users( elemName, sources.length );
+
+            for ( i = 0 ; i < sources.length ; i++ )
+                ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
+
+            return;
         }
 
         // The general case: we assume that some of the elements
@@ -1225,9 +669,7 @@ public class XmlComplexContentImpl extends XmlObjectBase
 
         if (sources == null || sources.length == 0)
         {
-            int m = store.count_elements( set );
-            for ( ; m > 0 ; m-- )
-                store.remove_element( set, 0 );
+            store.resize_element_users( set, elemName, 0 );
             return;
         }
 
@@ -1297,7 +739,13 @@ public class XmlComplexContentImpl extends XmlObjectBase
         {
             // All of the elements in the existing array are to
             // be deleted and replaced with elements from the
-            // sources array
+            // sources array, so they are set in place, in order
+            TypeStoreUser[] dests = store.resize_element_users( set, elemName, sources.length );
+
+            for ( i = 0 ; i < sources.length ; i++ )
+                ((XmlObjectBase) dests[ i ]).set( sources[ i ] );
+
+            return;
         }
 
         // The general case: we assume that some of the elements
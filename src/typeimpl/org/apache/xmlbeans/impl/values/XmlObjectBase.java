@@ -134,7 +134,13 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
             }
     }
 
-    private boolean preCheck()
+    /**
+     * True if this object is in a store loaded with
+     * XmlOptions.setUnsynchronized(), so that it need not be synchronized
+     * on its monitor().  Generated accessors call this when compiled with
+     * XmlOptions.setGenerateUnsynchronizedPath().
+     */
+    protected final boolean preCheck()
     {
 //        if ( isImmutable() )
 //            return true;
@@ -258,7 +264,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
         String value =
             (_flags & FLAG_NIL) != 0
                 ? ""
-                : compute_text( has_store() ? get_store() : null );
+                : has_store() ? compute_text( get_store() ) : computed_text();
 
         XmlOptions options = new XmlOptions().setDocumentType(schemaType());
 
@@ -383,7 +389,14 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
                 new Validator(
                     type, field, typeStore.get_schematypeloader(), options, null);
 
-            typeStore.validate( validator );
+            try
+            {
+                typeStore.validate( validator );
+            }
+            finally
+            {
+                validator.abandon();
+            }
 
             return validator.isValid();
         }
@@ -574,6 +587,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
 
     private int _flags;
     private Object _textsource;
+    private volatile String _computedtext;
 
     protected XmlObjectBase()
     {
@@ -744,6 +758,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
             else
             {
                 _textsource = null;
+                _computedtext = null;
             }
         }
     }
@@ -800,6 +815,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
         _textsource = store;
         if ((_flags & FLAG_IMMUTABLE) != 0)
             throw new IllegalStateException();
+        _computedtext = null;
         _flags |= FLAG_STORE | FLAG_VALUE_DATED | FLAG_NIL_DATED | FLAG_ELEMENT_DATED;
 
         if (store.is_attribute())
@@ -1035,6 +1051,30 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
             (prop.hasNillable() == SchemaProperty.NEVER ? 0 : TypeStore.NILLABLE);
     }
 
+    /**
+     * Returns the ordinal of the given child element.  Generated classes
+     * number the element properties they declare, with ordinals they get
+     * from new_element_ordinals, and ask the class they extend about the
+     * other names.  Here no name has an ordinal.
+     */
+    public int get_element_ordinal(QName eltName)
+    {
+        return -1;
+    }
+
+    private static int _elementOrdinals = 1;
+
+    /**
+     * Returns the first of count ordinals for the element properties of a
+     * generated class, which no other class is given.
+     */
+    protected static synchronized int new_element_ordinals(int count)
+    {
+        int first = _elementOrdinals;
+        _elementOrdinals += count;
+        return first;
+    }
+
     /**
      * Returns the flags for the given attribute.
      */
@@ -1134,7 +1174,10 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
                 get_store().invalidate_nil();
         }
         else
+        {
             _textsource = v;
+            _computedtext = null;
+        }
     }
 
     /**
@@ -1311,7 +1354,9 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
             {
                 String text;
 
-                if ((_flags & FLAG_COMPLEXCONTENT) != 0 || (text = get_wscanon_text()) == null)
+                if ((_flags & FLAG_COMPLEXCONTENT) == 0 && update_from_wscanon_chars())
+                    _flags &= ~(FLAG_NIL | FLAG_ISDEFAULT);
+                else if ((_flags & FLAG_COMPLEXCONTENT) != 0 || (text = get_wscanon_text()) == null)
                     update_from_complex_content();
                 else
                 {
@@ -1360,6 +1405,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
         else
         {
             _textsource = null;
+            _computedtext = null;
         }
     }
 
@@ -1377,6 +1423,109 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
         else return get_store().fetch_text(get_wscanon_rule());
     }
 
+    /**
+     * Returns compute_text(null) for a value without a store.  The text is
+     * kept in _computedtext until the value is next set, so that an
+     * immutable value which is printed or copied into many documents is
+     * only printed once.  Immutable values are read without a lock, but
+     * threads racing here all store the same text.
+     */
+    private String computed_text()
+    {
+        String text = _computedtext;
+        if (text != null)
+            return text;
+
+        text = compute_text(null);
+        _computedtext = text;
+        return text;
+    }
+
+    /**
+     * Grabs the underlying literal representation, applying the
+     * implementation's wscanon rule, without making a String of it.
+     * The chars are only good until the next call to the store.
+     */
+    protected final CharSequence get_wscanon_chars()
+    {
+        return get_store().fetch_chars(get_wscanon_rule());
+    }
+
+    /**
+     * Updates the value from get_wscanon_chars, for the types which can
+     * parse them without making a String.  Returns false, having done
+     * nothing, for the others, and when the text is empty or not a valid
+     * value, so that the value is updated from the text as usual, with
+     * the usual defaults and errors.
+     */
+    protected boolean update_from_wscanon_chars()
+    {
+        return false;
+    }
+
+    /**
+     * A reader over the underlying literal representation, with no
+     * whitespace rule applied, for the types which can read their value
+     * from it as it is needed.  Null, having done nothing, when the value
+     * is to be built as usual: when it already has been, or there is no
+     * store, or the value is nil or may be defaulted.
+     */
+    protected final Reader get_text_reader()
+    {
+        if ((_flags & (FLAG_STORE | FLAG_VALUE_DATED)) != (FLAG_STORE | FLAG_VALUE_DATED))
+            return null;
+
+        if ((_flags & FLAG_ORPHANED) != 0)
+            throw new XmlValueDisconnectedException();
+
+        check_element_dated();
+
+        if ((_flags & (FLAG_HASDEFAULT | FLAG_COMPLEXCONTENT)) != 0)
+            return null;
+
+        if ((_flags & FLAG_NIL_DATED) != 0 ? get_store().find_nil() : (_flags & FLAG_NIL) != 0)
+            return null;
+
+        return get_store().fetch_reader();
+    }
+
+    /**
+     * Sets the underlying literal representation from a reader, keeping
+     * the text in the store as it is read rather than making a String of
+     * it; the value is then built from the text when it is asked for.
+     * Without a store, or when validating on set, the text is set as a
+     * String.
+     */
+    protected final void set_text_reader(Reader text) throws IOException
+    {
+        synchronized (monitor())
+        {
+            set_prepare();
+
+            if ((_flags & FLAG_STORE) == 0 || _validateOnSet())
+            {
+                StringBuffer sb = new StringBuffer();
+                char[] buf = new char[4096];
+
+                for (int n; (n = text.read(buf)) >= 0; )
+                    sb.append(buf, 0, n);
+
+                set_String(sb.toString());
+                return;
+            }
+
+            boolean wasNilled = (_flags & FLAG_NIL_DATED) != 0 ?
+                get_store().find_nil() : (_flags & FLAG_NIL) != 0;
+
+            get_store().store_text(text);
+
+            _flags &= ~(FLAG_NIL | FLAG_ISDEFAULT | FLAG_NIL_DATED | FLAG_VALUE_DATED);
+            if (wasNilled)
+                get_store().invalidate_nil();
+            _flags |= FLAG_VALUE_DATED;
+        }
+    }
+
     /**
      * This should set the value of the type from text,
      * or throw an XmlValueOutOfRangeException if it can't.
@@ -1517,7 +1666,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
         {
             if ((_flags & FLAG_NIL) != 0)
                 return null;
-            return compute_text(null);
+            return computed_text();
         }
         // Since complex-content types don't have a "natural" string value, we
         // emit the deeply concatenated, tag-removed content of the tag.
@@ -1529,7 +1678,7 @@ public abstract class XmlObjectBase implements TypeStoreUser, Serializable, XmlO
             check_dated();
             if ((_flags & FLAG_NIL) != 0)
                 return null;
-            return compute_text(has_store() ? get_store() : null);
+            return has_store() ? compute_text(get_store()) : computed_text();
         }
     }
 
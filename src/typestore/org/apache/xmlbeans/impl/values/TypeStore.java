@@ -23,6 +23,8 @@ import org.apache.xmlbeans.XmlOptions;
 import org.apache.xmlbeans.XmlObject;
 import org.apache.xmlbeans.XmlException;
 import org.apache.xmlbeans.QNameSet;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import javax.xml.namespace.QName;
 import org.apache.xmlbeans.impl.common.ValidatorListener;
@@ -81,6 +83,20 @@ public interface TypeStore extends NamespaceManager
     // BUGBUG (ericvas) 12111
     String fetch_text(int whitespaceRule);
 
+    /**
+     * Like fetch_text, but gives the text as a sequence of chars which is
+     * only good until the next call to the store, instead of making a new
+     * String of it.  Returns null where fetch_text would.
+     */
+    CharSequence fetch_chars(int whitespaceRule);
+
+    /**
+     * A reader over the text of this node as it is now, with no whitespace
+     * rule applied.  The text is read from the store as it is needed, and
+     * later changes to the store do not show.
+     */
+    Reader fetch_reader();
+
     public static int WS_UNSPECIFIED = 0;
     public static int WS_PRESERVE = 1;
     public static int WS_REPLACE = 2;
@@ -94,6 +110,13 @@ public interface TypeStore extends NamespaceManager
      */
     void store_text(String text);
 
+    /**
+     * Like store_text, but reads the text from a reader, which is read to
+     * its end before the store is changed.  The text is kept in the chunks
+     * it is read in, rather than in one String.
+     */
+    void store_text(Reader text) throws IOException;
+
     /**
      * Here the TypeStore is responsible for locating the default value.
      * This is done as follows
@@ -182,6 +205,20 @@ public interface TypeStore extends NamespaceManager
      */
     TypeStoreUser find_element_user(QNameSet names, int i);
 
+    /**
+     * Returns the text of the ith element with the given name owned by
+     * this textstore, with the given whitespace rule applied, without
+     * creating a TypeStoreUser for it.  The chars are only good until the
+     * next call to the store.
+     *
+     * Returns null if there is no such element, and also when the value
+     * may not be just the text: the element already has a user, it has
+     * attributes (such as xsi:nil or xsi:type) or children, its text is
+     * empty (so a default may apply), or values are validated on set.
+     * The caller then goes through find_element_user as usual.
+     */
+    CharSequence find_element_chars(QName name, int i, int whitespaceRule);
+
     /**
      * Returns all the TypeStoreUsers corresponding to elements with the
      * given name owned by this typestore, or the empty array of
@@ -239,6 +276,24 @@ public interface TypeStore extends NamespaceManager
 // BUGBUG - this should be called add_element
     TypeStoreUser add_element_user(QName name);
 
+    /**
+     * Makes the number of elements with the given name n, removing the
+     * last ones if there are more, or adding new ones where
+     * add_element_user would if there are fewer, and returns the
+     * TypeStoreUsers of all n of them, in order.
+     *
+     * This is for implementing array setters: the existing elements are
+     * found in one pass and the new ones are inserted together, so that
+     * setting a large array is not quadratic.
+     */
+    TypeStoreUser[] resize_element_users(QName name, int n);
+
+    /**
+     * Like the above method, for the elements that match set.  New
+     * elements are named name.
+     */
+    TypeStoreUser[] resize_element_users(QNameSet set, QName name, int n);
+
     /**
      * Removes the ith element with the given name.
      *
@@ -263,6 +318,11 @@ public interface TypeStore extends NamespaceManager
 // BUGBUG - this should be called find_attribute
     TypeStoreUser find_attribute_user(QName name);
 
+    /**
+     * Like find_element_chars, for the attribute with the given name.
+     */
+    CharSequence find_attribute_chars(QName name, int whitespaceRule);
+
     /**
      * Adds an attribute with the given name and returns a TypeStoreUser
      * underneath it. Should throw an IndexOutOfBoundsException if there
@@ -153,6 +153,14 @@ public interface TypeStoreUser
      */
     int get_elementflags(QName eltName);
 
+    /**
+     * Returns the ordinal of the child element with the given name, which
+     * is positive and differs from that of every other name, or -1 if the
+     * name has no ordinal.  The store keeps the ordinals of the children,
+     * until this user is disconnected, to find them by ordinal.
+     */
+    int get_element_ordinal(QName eltName);
+
     /**
      * Returns the flags for an attribute.
      */
@@ -21,14 +21,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Iterator;
 import java.util.Arrays;
+import java.util.Map;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.FileFilter;
 import java.io.FileWriter;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
 
 public class CodeGenUtil
 {
@@ -60,13 +68,21 @@ public class CodeGenUtil
     }
     
     static void addAllJavaFiles(List srcFiles, List args)
+    {
+        addAllJavaFiles(srcFiles, args, true);
+    }
+
+    private static void addAllJavaFiles(List srcFiles, List args, boolean asArgs)
     {
         for (Iterator i = srcFiles.iterator(); i.hasNext(); )
         {
             File f = (File)i.next();
             if (!f.isDirectory())
             {
-                args.add(quoteAndEscapeFilename(f.getAbsolutePath()));
+                if (asArgs)
+                    args.add(quoteAndEscapeFilename(f.getAbsolutePath()));
+                else
+                    args.add(f);
             }
             else
             {
@@ -77,7 +93,7 @@ public class CodeGenUtil
                             { return (file.isFile() && file.getName().endsWith(".java")) || file.isDirectory(); }
                     }
                 )));
-                addAllJavaFiles(inside, args);
+                addAllJavaFiles(inside, args, asArgs);
             }
         }
     }
@@ -267,6 +283,152 @@ public class CodeGenUtil
         return true;
     }
 
+    /**
+     * Returns true if this runtime includes a Java compiler which
+     * {@link #internalCompile} can call, as a JDK does and a JRE does not.
+     */
+    public static boolean isInternalCompilerAvailable()
+    {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    /**
+     * Compiles the generated source files with the Java compiler of this
+     * runtime instead of starting javac.  The text of any file found in
+     * <code>sourceText</code> (a map from File to String, which may be null)
+     * is compiled as is, without reading the file; the other files are read
+     * from disk.  The options are those {@link #externalCompile} passes.
+     * Returns false if no compiler is available or the compile failed.
+     */
+    static public boolean internalCompile(List srcFiles, Map sourceText, File outdir, File[] cp, boolean debug, String genver, boolean quiet, boolean verbose)
+    {
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        if (javac == null)
+        {
+            System.err.println("No Java compiler is available in this runtime");
+            return false;
+        }
+
+        List args = new ArrayList();
+
+        if (outdir == null)
+        {
+            outdir = new File(".");
+        }
+        else
+        {
+            args.add("-d");
+            args.add(outdir.getAbsolutePath());
+        }
+
+        if (cp == null)
+        {
+            cp = systemClasspath();
+        }
+
+        if (cp.length > 0)
+        {
+            // the output directory goes first, as for an external compile
+            StringBuffer classPath = new StringBuffer();
+            classPath.append(outdir.getAbsolutePath());
+
+            for (int i = 0; i < cp.length; i++)
+            {
+                classPath.append(File.pathSeparator);
+                classPath.append(cp[i].getAbsolutePath());
+            }
+
+            args.add("-classpath");
+            args.add(classPath.toString());
+        }
+
+        if (genver == null)
+            genver = "1.6";
+
+        args.add("-source");
+        args.add(genver);
+
+        args.add("-target");
+        args.add(genver);
+
+        args.add(debug ? "-g" : "-g:none");
+
+        if (verbose)
+            args.add("-verbose");
+
+        List files = new ArrayList();
+        addAllJavaFiles(srcFiles, files, false);
+
+        StandardJavaFileManager fileManager = javac.getStandardFileManager(null, null, null);
+        List units = new ArrayList();
+        for (Iterator i = files.iterator(); i.hasNext(); )
+        {
+            File f = (File)i.next();
+            String text = (sourceText == null ? null : (String)sourceText.get(f));
+            if (text != null)
+                units.add(new SourceText(f, text));
+            else
+                units.add(fileManager.getJavaFileObjects(new File[] { f }).iterator().next());
+        }
+
+        if (verbose)
+            System.out.println("compile options: " + args + " for " + units.size() + " files");
+
+        // like the output of javac, messages are shown if asked for or if the compile failed
+        StringWriter output = new StringWriter();
+        boolean result;
+        try
+        {
+            result = javac.getTask(output, fileManager, null, args, null, units).call().booleanValue();
+        }
+        catch (Throwable e)
+        {
+            System.err.println(e.toString());
+            e.printStackTrace(System.err);
+            return false;
+        }
+        finally
+        {
+            try
+            {
+                fileManager.close();
+            }
+            catch (IOException e)
+            {
+                // the compile is already over
+            }
+        }
+
+        if (verbose || !result)
+        {
+            if (output.getBuffer().length() > 0) {
+                System.err.println(output.toString());
+                System.err.flush();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A source file whose text is already in memory.
+     */
+    private static class SourceText extends SimpleJavaFileObject
+    {
+        private final String _text;
+
+        SourceText(File file, String text)
+        {
+            super(file.getAbsoluteFile().toURI(), JavaFileObject.Kind.SOURCE);
+            _text = text;
+        }
+
+        public CharSequence getCharContent(boolean ignoreEncodingErrors)
+        {
+            return _text;
+        }
+    }
+
     public static File[] systemClasspath()
     {
         List cp = new ArrayList();
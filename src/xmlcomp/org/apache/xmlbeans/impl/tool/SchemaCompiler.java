@@ -80,7 +80,11 @@ public class SchemaCompiler
         System.out.println("    -novdoc - do not validate contents of <documentation>");
         System.out.println("    -noext - ignore all extension (Pre/Post and Interface) found in .xsdconfig files");
         System.out.println("    -compiler - path to external java compiler");
+        System.out.println("    -inprocess - compile in this JVM, with the javax.tools compiler, instead of with an external javac");
         System.out.println("    -javasource [version] - generate java source compatible for a Java version (1.4 or 1.5)");
+        System.out.println("    -nosyncpath - generate accessors which do not synchronize on documents loaded with XmlOptions.setUnsynchronized()");
+        System.out.println("    -pojo - also generate plain Java classes, read and written with StAX, in a pojo subpackage");
+        System.out.println("    -parallelism [n] - print the generated sources on up to n threads (default 1)");
         System.out.println("    -ms - initial memory for external java compiler (default '" + CodeGenUtil.DEFAULT_MEM_START + "')");
         System.out.println("    -mx - maximum memory for external java compiler (default '" + CodeGenUtil.DEFAULT_MEM_MAX + "')");
         System.out.println("    -debug - compile with debug symbols");
@@ -124,6 +128,9 @@ public class SchemaCompiler
         flags.add("noext");
         flags.add("srconly");
         flags.add("debug");
+        flags.add("nosyncpath");
+        flags.add("pojo");
+        flags.add("inprocess");
 
         Set opts = new HashSet();
         opts.add("out");
@@ -133,6 +140,7 @@ public class SchemaCompiler
         opts.add("cp");
         opts.add("compiler");
         opts.add("javasource");
+        opts.add("parallelism");
         opts.add("jar"); // deprecated
         opts.add("ms");
         opts.add("mx");
@@ -215,6 +223,24 @@ public class SchemaCompiler
         boolean noExt= (cl.getOpt("noext") != null);
         boolean nojavac = (cl.getOpt("srconly") != null);
         boolean debug = (cl.getOpt("debug") != null);
+        boolean noSyncPath = (cl.getOpt("nosyncpath") != null);
+        boolean pojo = (cl.getOpt("pojo") != null);
+        boolean inProcess = (cl.getOpt("inprocess") != null);
+
+        int parallelism = 1;
+        String parallelismString = cl.getOpt("parallelism");
+        if (parallelismString != null)
+        {
+            try
+            {
+                parallelism = Integer.parseInt(parallelismString);
+            }
+            catch (NumberFormatException e)
+            {
+                System.err.println("The parallelism must be a number: " + parallelismString);
+                System.exit(1);
+            }
+        }
 
         String allowmdef = cl.getOpt("allowmdef");
         Set mdefNamespaces = (allowmdef == null ? Collections.EMPTY_SET :
@@ -363,6 +389,10 @@ public class SchemaCompiler
         params.setNoVDoc(noVDoc);
         params.setNoExt(noExt);
         params.setDebug(debug);
+        params.setNoSyncPath(noSyncPath);
+        params.setPojo(pojo);
+        params.setInProcess(inProcess);
+        params.setParallelism(parallelism);
         params.setErrorListener(err);
         params.setRepackage(repackage);
         params.setExtensions(extensions);
@@ -409,6 +439,10 @@ public class SchemaCompiler
         private boolean noVDoc;
         private boolean noExt;
         private boolean debug;
+        private boolean noSyncPath;
+        private boolean pojo;
+        private boolean inProcess;
+        private int parallelism = 1;
         private boolean incrementalSrcGen;
         private String repackage;
         private List extensions = Collections.EMPTY_LIST;
@@ -637,6 +671,58 @@ public class SchemaCompiler
             this.debug = debug;
         }
 
+        public boolean isNoSyncPath()
+        {
+            return noSyncPath;
+        }
+
+        public void setNoSyncPath(boolean noSyncPath)
+        {
+            this.noSyncPath = noSyncPath;
+        }
+
+        public boolean isPojo()
+        {
+            return pojo;
+        }
+
+        public void setPojo(boolean pojo)
+        {
+            this.pojo = pojo;
+        }
+
+        public boolean isInProcess()
+        {
+            return inProcess;
+        }
+
+        /**
+         * If true, the generated sources are compiled by the java compiler
+         * of this JVM, from the text kept in memory, instead of by an
+         * external javac.  The compiler, memoryInitialSize and
+         * memoryMaximumSize parameters then do not apply.
+         */
+        public void setInProcess(boolean inProcess)
+        {
+            this.inProcess = inProcess;
+        }
+
+        public int getParallelism()
+        {
+            return parallelism;
+        }
+
+        /**
+         * Sets the maximum number of threads the sources of the types are
+         * printed on.
+         *
+         * @see XmlOptions#setGenerateParallelism(int)
+         */
+        public void setParallelism(int parallelism)
+        {
+            this.parallelism = parallelism;
+        }
+
         public String getMemoryInitialSize()
         {
             return memoryInitialSize;
@@ -1016,6 +1102,10 @@ public class SchemaCompiler
         boolean noVDoc = params.isNoVDoc();
         boolean noExt = params.isNoExt();
         boolean incrSrcGen = params.isIncrementalSrcGen();
+        boolean noSyncPath = params.isNoSyncPath();
+        boolean pojo = params.isPojo();
+        boolean inProcess = params.isInProcess();
+        int parallelism = params.getParallelism();
         Collection outerErrorListener = params.getErrorListener();
 
         String repackage = params.getRepackage();
@@ -1077,7 +1167,13 @@ public class SchemaCompiler
 
             // filer implementation writes binary .xsd and generated source to disk
             Repackager repackager = (repackage == null ? null : new Repackager(repackage));
-            FilerImpl filer = new FilerImpl(classesDir, srcDir, repackager, verbose, incrSrcGen);
+            if (inProcess && !nojavac && !CodeGenUtil.isInternalCompilerAvailable())
+            {
+                if (!quiet)
+                    System.out.println("No java compiler in this JVM; compiling with an external compiler");
+                inProcess = false;
+            }
+            FilerImpl filer = new FilerImpl(classesDir, srcDir, repackager, verbose, incrSrcGen, inProcess && !nojavac);
 
             // currently just for schemaCodePrinter
             XmlOptions options = new XmlOptions();
@@ -1085,13 +1181,28 @@ public class SchemaCompiler
                 options.setSchemaCodePrinter(codePrinter);
             if (javasource != null)
                 options.setGenerateJavaVersion(javasource);
+            if (noSyncPath)
+                options.setGenerateUnsynchronizedPath();
+            if (pojo)
+                options.setGeneratePojoBinding();
+            if (parallelism > 1)
+                options.setGenerateParallelism(parallelism);
 
             // save .xsb files
             system.save(filer);
 
+            if (verbose)
+                System.out.println("Time to save binary files: " + ((double)(System.currentTimeMillis() - start) / 1000.0) + " seconds" );
+
             // gen source files
+            long genStart = System.currentTimeMillis();
             result &= SchemaTypeSystemCompiler.generateTypes(system, filer, options);
 
+            if (verbose)
+                System.out.println("Time to print " + filer.getSourceFiles().size() + " source files" +
+                    (parallelism > 1 ? " on " + parallelism + " threads" : "") + ": " +
+                    ((double)(System.currentTimeMillis() - genStart) / 1000.0) + " seconds" );
+
             if (incrSrcGen)
             {
                 // We have to delete extra source files that may be out of date
@@ -1115,7 +1226,12 @@ public class SchemaCompiler
 
                 if (javaFiles != null)
                     sourcefiles.addAll(java.util.Arrays.asList(javaFiles));
-                if (!CodeGenUtil.externalCompile(sourcefiles, classesDir, classpath, debug, compiler, javasource, memoryInitialSize, memoryMaximumSize, quiet, verbose))
+                if (inProcess)
+                {
+                    if (!CodeGenUtil.internalCompile(sourcefiles, filer.getSourceText(), classesDir, classpath, debug, javasource, quiet, verbose))
+                        result = false;
+                }
+                else if (!CodeGenUtil.externalCompile(sourcefiles, classesDir, classpath, debug, compiler, javasource, memoryInitialSize, memoryMaximumSize, quiet, verbose))
                     result = false;
 
                 finish = System.currentTimeMillis();
@@ -1125,6 +1241,7 @@ public class SchemaCompiler
                 // jar classes and .xsb
                 if (result && outputJar != null)
                 {
+                    start = System.currentTimeMillis();
                     try
                     {
                         new JarHelper().jarDir(classesDir, outputJar);
@@ -1135,6 +1252,8 @@ public class SchemaCompiler
                         result = false;
                     }
 
+                    if (result && verbose)
+                        System.out.println("Time to jar classes: " + ((double)(System.currentTimeMillis() - start) / 1000.0) + " seconds" );
                     if (result && !params.isQuiet())
                         System.out.println("Compiled types to: " + outputJar);
                 }
@@ -72,6 +72,7 @@ public class XMLBean extends MatchingTask
                         noext = false,
                         failonerror = true,
                         fork = true,
+                        inprocess = false,
                         includeAntRuntime = true,
                         noSrcRegen,
                         includeJavaRuntime = false,
@@ -222,7 +223,11 @@ public class XMLBean extends MatchingTask
             params.setName(typesystemname);
             params.setSrcDir(srcgendir);
             params.setClassesDir(classgendir);
-            params.setNojavac(true); // always compile using javac task below
+            // unless compiling in process, always compile using javac task below
+            params.setNojavac(srconly || !inprocess);
+            params.setInProcess(inprocess);
+            if (inprocess)
+                params.setOutputJar(destfile);
             params.setDebug(debug);
             params.setVerbose(verbose);
             params.setQuiet(quiet);
@@ -240,7 +245,7 @@ public class XMLBean extends MatchingTask
             params.setJavaSource(javasource);
             success = SchemaCompiler.compile(params);
 
-            if (success && !srconly) {
+            if (success && !srconly && !inprocess) {
                 long start = System.currentTimeMillis();
 
                 // compile the source
@@ -556,6 +561,23 @@ public class XMLBean extends MatchingTask
         fork = f;
     }
 
+    /**
+     * If true, compiles the generated source in this JVM, from memory, with
+     * the javax.tools compiler, and writes the jar without the javac and jar
+     * tasks.  The javac settings of this task, such as compiler, fork,
+     * executable, debugLevel and the memory sizes, are then ignored.
+     * Optional, default is false.
+     *
+     * @param inprocess "true|false|on|off|yes|no"
+     */
+    public void setInprocess(boolean inprocess) {
+        this.inprocess = inprocess;
+    }
+
+    public boolean isInprocess() {
+        return inprocess;
+    }
+
     /**
      * Sets the the name of the javac executable.
      *
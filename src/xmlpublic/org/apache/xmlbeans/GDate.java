@@ -258,12 +258,18 @@ public final class GDate implements GDateSpecification, java.io.Serializable
                     throw new IllegalArgumentException();
                 if (start + 1 < len)
                 {
+                    long digits = 0;
                     for (int i = start + 1; i < len; i++)
                     {
-                        if (!isDigit(string.charAt(i)))
+                        char c = string.charAt(i);
+                        if (!isDigit(c))
                             throw new IllegalArgumentException();
+                        digits = digits * 10 + digitVal(c);
                     }
-                    try
+                    // up to 18 digits fit a long, no need for a String
+                    if (len - start - 1 <= 18)
+                        fs = BigDecimal.valueOf(digits, len - start - 1);
+                    else try
                     {
                         fs = new BigDecimal(string.subSequence(start, len).toString());
                     }
@@ -766,7 +772,7 @@ public final class GDate implements GDateSpecification, java.io.Serializable
      */
     public XmlCalendar getCalendar()
     {
-        return new XmlCalendar(this);
+        return XmlCalendar.forGDate(this);
     }
 
 
@@ -1048,7 +1048,7 @@ public final class GDateBuilder implements GDateSpecification, java.io.Serializa
      */
     public XmlCalendar getCalendar()
     {
-        return new XmlCalendar(this);
+        return XmlCalendar.forGDate(this);
     }
 
     /**
@@ -46,6 +46,22 @@ public interface XmlBase64Binary extends XmlAnySimpleType
     /** Sets this value as a byte array. */
     void setByteArrayValue(byte[] ba);
 
+    /**
+     * Returns this value as a stream of bytes.  If the value has not been
+     * read yet, the bytes are decoded from the text of the document as
+     * they are read, without ever having all of them in memory; text
+     * which is not base64 data then makes the stream throw an IOException
+     * when it is reached.  Returns null if the value is nil.
+     */
+    java.io.InputStream getByteStreamValue();
+    /**
+     * Sets this value from a stream of bytes, which is read to its end but
+     * not closed.  The bytes are encoded into the text of the document as
+     * they are read, without ever having all of them in memory, unless the
+     * value is validated as it is set.
+     */
+    void setByteStreamValue(java.io.InputStream in) throws java.io.IOException;
+
 
     /**
      * A class with methods for creating instances
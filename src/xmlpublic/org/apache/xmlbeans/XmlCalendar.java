@@ -16,6 +16,7 @@
 package org.apache.xmlbeans;
 
 import java.util.GregorianCalendar;
+import java.util.Locale;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -142,7 +143,34 @@ public class XmlCalendar extends GregorianCalendar
         super(tz);
         setGregorianChange(_beginningOfTime); // proleptic
         clear();
-        
+        setGDate(date);
+    }
+
+    /**
+     * Same as new XmlCalendar(date), only cheaper: constructing a
+     * GregorianCalendar computes the current time, while a copy of a
+     * cleared one does not.
+     */
+    /* package */ static XmlCalendar forGDate(GDateSpecification date)
+    {
+        Prototype prototype = _prototype;
+        Locale locale = Locale.getDefault();
+
+        if (prototype == null || !locale.equals(prototype.locale))
+        {
+            // the week data of a calendar comes from the default locale
+            prototype = new Prototype(locale, new XmlCalendar());
+            _prototype = prototype;
+        }
+
+        XmlCalendar result = (XmlCalendar) prototype.calendar.clone();
+        result.setTimeZone(GDate.timeZoneForGDate(date));
+        result.setGDate(date);
+        return result;
+    }
+
+    private void setGDate(GDateSpecification date)
+    {
         if (date.hasYear())
         {
             int y = date.getYear(); // is never 0
@@ -305,6 +333,25 @@ public class XmlCalendar extends GregorianCalendar
     }
         
     private static Date _beginningOfTime = new Date(Long.MIN_VALUE);
+
+    /**
+     * A cleared calendar together with the default locale it was made
+     * for.  Never changed once published, so its calendar may be copied
+     * on any thread.
+     */
+    private static final class Prototype
+    {
+        final Locale locale;
+        final XmlCalendar calendar;
+
+        Prototype(Locale locale, XmlCalendar calendar)
+        {
+            this.locale = locale;
+            this.calendar = calendar;
+        }
+    }
+
+    private static volatile Prototype _prototype;
     
     /**
      * Prints the XmlCalendar using a standard XML Schema
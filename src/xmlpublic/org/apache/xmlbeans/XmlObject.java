@@ -187,6 +187,10 @@ public interface XmlObject extends XmlTokenSource
      * }
      * </pre>
      *
+     * <p>When only whether the object is valid matters, use the
+     * {@link XmlOptions#setValidateErrorLimit} method to stop validating at
+     * the first error.</p>
+     *
      * @param options An object that implements the {@link java.util.Collection
      * Collection} interface.
      *
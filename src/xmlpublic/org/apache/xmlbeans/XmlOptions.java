@@ -18,6 +18,7 @@ package org.apache.xmlbeans;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.XMLReader;
 
+import java.io.File;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
@@ -76,7 +77,10 @@ import javax.xml.namespace.QName;
  *                      <code>setCompile***</code><br/>
  *                      <code>setEntityResolver</code><br/>
  *                      <code>setBaseURI</code><br/>
- *                      <code>setGenerateJavaVersion</code></td>
+ *                      <code>setGenerateJavaVersion</code><br/>
+ *                      <code>setGenerateUnsynchronizedPath</code><br/>
+ *                      <code>setGeneratePojoBinding</code><br/>
+ *                      <code>setGenerateParallelism</code></td>
  *   <td align="center"><code>setSave***</code><br/>
  *                      <code>setUseDefaultNamespace</code><br/>
  *                      <code>setCharacterEncoding</code></td>
@@ -748,6 +752,55 @@ public class XmlOptions implements java.io.Serializable
         return set( COMPILE_MDEF_NAMESPACES, mdefNamespaces );
     }
 
+    /**
+     * If this option is set, then the schema compiler keeps the type systems
+     * it compiles in the given directory, and loads them from there instead
+     * of compiling the same schemas again.  The type systems are found by a
+     * digest of the schema documents passed in and of the compile options;
+     * the type loader linked to is not part of it.  Several JVMs may share
+     * the directory.  Type systems loaded from it do not report the
+     * warnings which compiling them did.  This option is ignored when
+     * compiling incrementally, with a BindingConfig or with a Filer, and
+     * when a schema imports, includes or redefines a schemaLocation, since
+     * the documents read from there are not part of the digest.
+     *
+     * @param directory the directory of the cache, which is created if needed
+     * @see #setCompileCacheMaxSize
+     * @see XmlBeans#compileXsd
+     */
+    public XmlOptions setCompileCacheDirectory(File directory)
+    {
+        return set( COMPILE_CACHE_DIRECTORY, directory );
+    }
+
+    /**
+     * Sets the size the type systems kept in the compile cache directory may
+     * take: when storing one makes them take more, those least recently used
+     * are deleted.  The default is 64MB.
+     *
+     * @param bytes the maximum size of the cache, in bytes
+     * @see #setCompileCacheDirectory
+     */
+    public XmlOptions setCompileCacheMaxSize(long bytes)
+    {
+        return set( COMPILE_CACHE_MAX_SIZE, new Long(bytes) );
+    }
+
+    /**
+     * Lets the schema compiler check the restrictions and the default
+     * values of the types it compiles on up to the given number of threads.
+     * The errors found are still reported in the order a single thread
+     * finds them.  Without this option the types are checked on the
+     * compiling thread alone; scomp never sets it.
+     *
+     * @param parallelism the maximum number of threads to use
+     * @see XmlBeans#compileXsd
+     */
+    public XmlOptions setCompileParallelism(int parallelism)
+    {
+        return set( COMPILE_PARALLELISM, parallelism );
+    }
+
     /**
      * If this option is set when an instance is created, then value
      * facets will be checked on each call to a setter or getter
@@ -846,6 +899,46 @@ public class XmlOptions implements java.io.Serializable
         return set( GENERATE_JAVA_VERSION, source );
     }
 
+    /**
+     * If this option is set, then the schema compiler will print accessors
+     * which first check whether the object is in a store loaded with
+     * {@link #setUnsynchronized}, and if so do their work without
+     * synchronizing on the store.  Documents loaded without that option
+     * are synchronized on as before.
+     *
+     * @see XmlBeans#compileXmlBeans
+     */
+    public XmlOptions setGenerateUnsynchronizedPath () {
+        return set( GENERATE_UNSYNCHRONIZED_PATH );
+    }
+
+    /**
+     * If this option is set, then the schema compiler will also print, for
+     * each complex type, a plain Java class in the "pojo" subpackage of the
+     * generated interfaces.  These classes hold their values in fields and
+     * read and write themselves with StAX, without a store, for uses which
+     * do not need the XmlObject API.
+     *
+     * @see XmlBeans#compileXmlBeans
+     */
+    public XmlOptions setGeneratePojoBinding () {
+        return set( GENERATE_POJO_BINDING );
+    }
+
+    /**
+     * Lets the schema compiler print the sources of the generated types on
+     * up to the given number of threads.  The sources are still handed to
+     * the Filer one at a time, on the calling thread and in the same order,
+     * so the generated files do not depend on the number of threads.  This
+     * option is ignored when a SchemaCodePrinter is set.
+     *
+     * @param parallelism the maximum number of threads to use
+     * @see XmlBeans#compileXmlBeans
+     */
+    public XmlOptions setGenerateParallelism ( int parallelism ) {
+        return set( GENERATE_PARALLELISM, parallelism );
+    }
+
     /**
      * If this option is set to true, the return of XmlObject.copy() method will
      * return an object in it's own synchronization domain, otherwise both objects
@@ -907,6 +1000,98 @@ public class XmlOptions implements java.io.Serializable
         return set(LOAD_EXTERNAL_DTD, loadExternalDTD);
     }
 
+    /**
+     * Builds an index from element name to elements while loading the
+     * document, so that later descendant name lookups, such as
+     * <code>selectPath(".//name")</code> or
+     * <code>getElementsByTagNameNS</code>, do not have to walk the whole
+     * document.  The index is kept with the document and rebuilt lazily
+     * after the document is modified.  Useful for read-mostly documents
+     * which are queried repeatedly.
+     *
+     * @see #setXPathUseElementIndex()
+     */
+    public XmlOptions setLoadElementIndex ( )
+    {
+        return set( LOAD_ELEMENT_INDEX );
+    }
+
+    /**
+     * Makes selectPath answer simple descendant paths (<code>.//name</code>)
+     * from the document's element index, building the index on first use
+     * if the document does not have one yet.  Documents which already have
+     * an index use it regardless of this option.
+     *
+     * @see #setLoadElementIndex()
+     */
+    public XmlOptions setXPathUseElementIndex ( )
+    {
+        return set( XPATH_USE_ELEMENT_INDEX );
+    }
+
+    /**
+     * Lets selectPath evaluate paths over large documents on up to the
+     * given number of threads.  The element children of the first element
+     * below the context node which has several of them (the records of a
+     * typical large document) are split into ranges which are searched
+     * concurrently, and the selections are returned in document order.
+     * Paths the builtin engine cannot split, such as those with positional
+     * predicates or text(), are evaluated on the calling thread as usual.
+     * The document must not be modified while the selection is made.
+     *
+     * @param parallelism the maximum number of threads to use
+     */
+    public XmlOptions setXPathParallelism ( int parallelism )
+    {
+        return set( XPATH_PARALLELISM, parallelism );
+    }
+
+    /**
+     * Lets validate check large documents on up to the given number of
+     * threads.  Elements of a repeated particle (the records of a typical
+     * large document) are validated concurrently while the rest of the
+     * document is walked, and their errors are reported in document order
+     * as usual.  IDs and IDREFs are checked across the whole document, but
+     * no element is split off within the scope of a key, keyref or unique
+     * constraint.  The document must not be modified during validation.
+     *
+     * @param parallelism the maximum number of threads to use
+     */
+    public XmlOptions setValidateParallelism ( int parallelism )
+    {
+        return set( VALIDATE_PARALLELISM, parallelism );
+    }
+
+    /**
+     * Lets validate remember which elements of a document it found valid,
+     * so that validating the document again only checks again those which
+     * have been changed since, directly or through XmlObjects.  Elements
+     * of a repeated particle (the records of a typical large document) are
+     * remembered, with their IDs and IDREFs, which are still checked
+     * across the whole document.  Elements within the scope of a key,
+     * keyref or unique constraint are always validated.
+     */
+    public XmlOptions setValidateIncrementally ( )
+    {
+        return set( VALIDATE_INCREMENTALLY );
+    }
+
+    /**
+     * Lets validate stop once the given number of errors have been found,
+     * for when only whether a document is valid, or its first few errors,
+     * are of interest.  Warnings do not count.  The rest of the document
+     * is not checked, and when no error listener is set the detailed
+     * messages of the errors are not built either.  This has no effect
+     * while parts of a document are validated on other threads.
+     *
+     * @param limit the number of errors to stop at, 1 to stop at the first
+     * @see XmlObject#validate(XmlOptions)
+     */
+    public XmlOptions setValidateErrorLimit ( int limit )
+    {
+        return set( VALIDATE_ERROR_LIMIT, limit );
+    }
+
     public static final String GENERATE_JAVA_14 = "1.4";
     public static final String GENERATE_JAVA_15 = "1.5";
 
@@ -1010,6 +1195,12 @@ public class XmlOptions implements java.io.Serializable
     /** @exclude */
     public static final String COMPILE_MDEF_NAMESPACES         = "COMPILE_MDEF_NAMESPACES";
     /** @exclude */
+    public static final String COMPILE_CACHE_DIRECTORY         = "COMPILE_CACHE_DIRECTORY";
+    /** @exclude */
+    public static final String COMPILE_CACHE_MAX_SIZE          = "COMPILE_CACHE_MAX_SIZE";
+    /** @exclude */
+    public static final String COMPILE_PARALLELISM             = "COMPILE_PARALLELISM";
+    /** @exclude */
     public static final String VALIDATE_ON_SET                 = "VALIDATE_ON_SET";
     /** @exclude */
     public static final String VALIDATE_TREAT_LAX_AS_SKIP      = "VALIDATE_TREAT_LAX_AS_SKIP";
@@ -1028,6 +1219,12 @@ public class XmlOptions implements java.io.Serializable
     /** @exclude */
     public static final String GENERATE_JAVA_VERSION           = "GENERATE_JAVA_VERSION";
     /** @exclude */
+    public static final String GENERATE_UNSYNCHRONIZED_PATH    = "GENERATE_UNSYNCHRONIZED_PATH";
+    /** @exclude */
+    public static final String GENERATE_POJO_BINDING           = "GENERATE_POJO_BINDING";
+    /** @exclude */
+    public static final String GENERATE_PARALLELISM            = "GENERATE_PARALLELISM";
+    /** @exclude */
     public static final String COPY_USE_NEW_SYNC_DOMAIN        = "COPY_USE_NEW_LOCALE";
     /** @exclude */
     public static final String LOAD_ENTITY_BYTES_LIMIT         = "LOAD_ENTITY_BYTES_LIMIT";
@@ -1037,6 +1234,18 @@ public class XmlOptions implements java.io.Serializable
     public static final String LOAD_DTD_GRAMMAR                = "LOAD_DTD_GRAMMAR";
     /** @exclude */
     public static final String LOAD_EXTERNAL_DTD               = "LOAD_EXTERNAL_DTD";
+    /** @exclude */
+    public static final String LOAD_ELEMENT_INDEX              = "LOAD_ELEMENT_INDEX";
+    /** @exclude */
+    public static final String XPATH_USE_ELEMENT_INDEX         = "XPATH_USE_ELEMENT_INDEX";
+    /** @exclude */
+    public static final String XPATH_PARALLELISM               = "XPATH_PARALLELISM";
+    /** @exclude */
+    public static final String VALIDATE_PARALLELISM            = "VALIDATE_PARALLELISM";
+    /** @exclude */
+    public static final String VALIDATE_INCREMENTALLY          = "VALIDATE_INCREMENTALLY";
+    /** @exclude */
+    public static final String VALIDATE_ERROR_LIMIT            = "VALIDATE_ERROR_LIMIT";
 
     public static final int DEFAULT_ENTITY_EXPANSION_LIMIT = 2048;
 
@@ -5,6 +5,13 @@ sh ./v2.sh POReadAllV2 4
 sh ./v2.sh POReadAllV2 5 
 sh ./v2.sh POReadAllV2 6 
 sh ./v2.sh POReadAllV2 7 
+sh ./v2.sh POReadAllPojoV2 1
+sh ./v2.sh POReadAllPojoV2 2
+sh ./v2.sh POReadAllPojoV2 3
+sh ./v2.sh POReadAllPojoV2 4
+sh ./v2.sh POReadAllPojoV2 5
+sh ./v2.sh POReadAllPojoV2 6
+sh ./v2.sh POReadAllPojoV2 7
 sh ./v2.sh POReadOneV2 1
 sh ./v2.sh POReadOneV2 2 
 sh ./v2.sh POReadOneV2 3
@@ -19,6 +26,7 @@ sh ./v2.sh POGetCustNameV2 filename 4
 sh ./v2.sh POGetCustNameV2 filename 5
 sh ./v2.sh POGetCustNameV2 filename 6
 sh ./v2.sh POGetCustNameV2 filename 7
+sh ./v2.sh POGetShipperNameV2
 sh ./v2.sh POGetSetGetCustNameV2 filename 1
 sh ./v2.sh POGetSetGetCustNameV2 filename 2
 sh ./v2.sh POGetSetGetCustNameV2 filename 3
@@ -33,6 +41,13 @@ sh ./v2.sh POSelectLineItemsV2 filename 4
 sh ./v2.sh POSelectLineItemsV2 filename 5
 sh ./v2.sh POSelectLineItemsV2 filename 6
 sh ./v2.sh POSelectLineItemsV2 filename 7
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 1
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 2
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 3
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 4
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 5
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 6
+sh ./v2.sh POSelectLineItemsIndexedV2 filename 7
 sh ./v2.sh POQueryLineItemsV2 filename 1
 sh ./v2.sh POQueryLineItemsV2 filename 2
 sh ./v2.sh POQueryLineItemsV2 filename 3
@@ -40,11 +55,41 @@ sh ./v2.sh POQueryLineItemsV2 filename 4
 sh ./v2.sh POQueryLineItemsV2 filename 5
 sh ./v2.sh POQueryLineItemsV2 filename 6
 sh ./v2.sh POQueryLineItemsV2 filename 7
+sh ./v2.sh POSelectPredicateV2 filename 1
+sh ./v2.sh POSelectPredicateV2 filename 2
+sh ./v2.sh POSelectPredicateV2 filename 3
+sh ./v2.sh POSelectPredicateV2 filename 4
+sh ./v2.sh POSelectPredicateV2 filename 5
+sh ./v2.sh POSelectPredicateV2 filename 6
+sh ./v2.sh POSelectPredicateV2 filename 7
 sh ./v2.sh POTopDownV2
 sh ./v2.sh POTopDownSaveV2
 sh ./v2.sh POValidateXmlObjV2
+sh ./v2.sh ValidateNestedContentV2
+sh ./v2.sh PatternFacetThreadsV2 1
+sh ./v2.sh PatternFacetThreadsV2 4
+sh ./v2.sh PatternFacetThreadsV2 16
+sh ./v2.sh ValidateEnumerationV2 5000
+sh ./v2.sh ValidateParallelV2 1
+sh ./v2.sh ValidateParallelV2 4
+sh ./v2.sh CompileSchemasV2 1
+sh ./v2.sh CompileSchemasV2 4
+sh ./v2.sh ValidateIncrementalV2 full
+sh ./v2.sh ValidateIncrementalV2 incremental
+sh ./v2.sh ValidateKeysV2
+sh ./v2.sh ValidateTypedValuesV2 separate
+sh ./v2.sh ValidateTypedValuesV2 combined
+sh ./v2.sh ValidateErrorLimitV2 all
+sh ./v2.sh ValidateErrorLimitV2 first
+sh ./v2.sh PrimReadV2
+sh ./v2.sh DateTimeReadV2 calendar
+sh ./v2.sh DateTimeReadV2 gdate
+sh ./v2.sh DateTimeReadV2 date
+sh ./v2.sh BinaryStreamV2 array
+sh ./v2.sh BinaryStreamV2 stream
 sh ./v2.sh PrimTopDownV2
 sh ./v2.sh NPrimTopDownV2
+sh ./v2.sh PrimSetArrayV2
 sh ./v2.sh CursorWalkV2 flavor deep-attributes
 sh ./v2.sh CursorWalkV2 flavor deep-elements
 sh ./v2.sh CursorWalkV2 flavor wide-attributes
@@ -5,6 +5,13 @@ call v2.bat POReadAllV2 filename 4
 call v2.bat POReadAllV2 filename 5 
 call v2.bat POReadAllV2 filename 6 
 call v2.bat POReadAllV2 filename 7 
+call v2.bat POReadAllPojoV2 filename 1 
+call v2.bat POReadAllPojoV2 filename 2 
+call v2.bat POReadAllPojoV2 filename 3 
+call v2.bat POReadAllPojoV2 filename 4 
+call v2.bat POReadAllPojoV2 filename 5 
+call v2.bat POReadAllPojoV2 filename 6 
+call v2.bat POReadAllPojoV2 filename 7 
 call v2.bat POReadOneV2 filename 1
 call v2.bat POReadOneV2 filename 2
 call v2.bat POReadOneV2 filename 3
@@ -19,6 +26,7 @@ call v2.bat POGetCustNameV2 filename 4
 call v2.bat POGetCustNameV2 filename 5
 call v2.bat POGetCustNameV2 filename 6
 call v2.bat POGetCustNameV2 filename 7
+call v2.bat POGetShipperNameV2
 call v2.bat POGetSetGetCustNameV2 filename 1
 call v2.bat POGetSetGetCustNameV2 filename 2
 call v2.bat POGetSetGetCustNameV2 filename 3
@@ -33,6 +41,13 @@ call v2.bat POSelectLineItemsV2 filename 4
 call v2.bat POSelectLineItemsV2 filename 5
 call v2.bat POSelectLineItemsV2 filename 6
 call v2.bat POSelectLineItemsV2 filename 7
+call v2.bat POSelectLineItemsIndexedV2 filename 1
+call v2.bat POSelectLineItemsIndexedV2 filename 2
+call v2.bat POSelectLineItemsIndexedV2 filename 3
+call v2.bat POSelectLineItemsIndexedV2 filename 4
+call v2.bat POSelectLineItemsIndexedV2 filename 5
+call v2.bat POSelectLineItemsIndexedV2 filename 6
+call v2.bat POSelectLineItemsIndexedV2 filename 7
 call v2.bat POQueryLineItemsV2 filename 1
 call v2.bat POQueryLineItemsV2 filename 2
 call v2.bat POQueryLineItemsV2 filename 3
@@ -40,11 +55,41 @@ call v2.bat POQueryLineItemsV2 filename 4
 call v2.bat POQueryLineItemsV2 filename 5
 call v2.bat POQueryLineItemsV2 filename 6
 call v2.bat POQueryLineItemsV2 filename 7
+call v2.bat POSelectPredicateV2 filename 1
+call v2.bat POSelectPredicateV2 filename 2
+call v2.bat POSelectPredicateV2 filename 3
+call v2.bat POSelectPredicateV2 filename 4
+call v2.bat POSelectPredicateV2 filename 5
+call v2.bat POSelectPredicateV2 filename 6
+call v2.bat POSelectPredicateV2 filename 7
 call v2.bat POTopDownV2
 call v2.bat POTopDownSaveV2
 call v2.bat POValidateXmlObjV2
+call v2.bat ValidateNestedContentV2
+call v2.bat PatternFacetThreadsV2 1
+call v2.bat PatternFacetThreadsV2 4
+call v2.bat PatternFacetThreadsV2 16
+call v2.bat ValidateEnumerationV2 5000
+call v2.bat ValidateParallelV2 1
+call v2.bat ValidateParallelV2 4
+call v2.bat CompileSchemasV2 1
+call v2.bat CompileSchemasV2 4
+call v2.bat ValidateIncrementalV2 full
+call v2.bat ValidateIncrementalV2 incremental
+call v2.bat ValidateKeysV2
+call v2.bat ValidateTypedValuesV2 separate
+call v2.bat ValidateTypedValuesV2 combined
+call v2.bat ValidateErrorLimitV2 all
+call v2.bat ValidateErrorLimitV2 first
+call v2.bat PrimReadV2
+call v2.bat DateTimeReadV2 calendar
+call v2.bat DateTimeReadV2 gdate
+call v2.bat DateTimeReadV2 date
+call v2.bat BinaryStreamV2 array
+call v2.bat BinaryStreamV2 stream
 call v2.bat PrimTopDownV2
 call v2.bat NPrimTopDownV2
+call v2.bat PrimSetArrayV2
 call v2.bat CursorWalkV2 flavor deep-attributes
 call v2.bat CursorWalkV2 flavor deep-elements
 call v2.bat CursorWalkV2 flavor wide-attributes
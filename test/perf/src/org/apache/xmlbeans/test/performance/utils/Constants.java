@@ -34,6 +34,10 @@ public class Constants
   public static final int GET_SET_ITERATIONS = 5000000;
   public static final int STRING_SIZE = 1000;
 
+  // load documents with XmlOptions.setUnsynchronized(), for beans compiled
+  // with scomp -nosyncpath
+  public static final boolean UNSYNCHRONIZED = Boolean.getBoolean("perf.unsynchronized");
+
   // schema instances
   public static final String XSD_DIR = System.getProperty("PERF_ROOT")+P+"cases"+P+"xsd";
   public static final String XML_DIR = System.getProperty("PERF_ROOT")+P+"cases"+P+"xml";  
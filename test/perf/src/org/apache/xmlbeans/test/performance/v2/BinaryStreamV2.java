@@ -0,0 +1,100 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.XmlBase64Binary;
+import org.apache.xmlbeans.impl.util.Base64;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * Reads a large base64Binary value of a freshly parsed document, then sets
+ * it again, either as byte arrays ("array", the default) or as streams
+ * ("stream").
+ */
+public class BinaryStreamV2
+{
+  private final byte[] buf = new byte[8192];
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 100;
+    boolean stream = args.length > 0 && args[0].equals("stream");
+
+    BinaryStreamV2 test = new BinaryStreamV2();
+    long cputime;
+    int hash = 0;
+
+    // build the doc, about 4 MB of base64 in lines of 76 chars
+    byte[] data = new byte[3 * 1024 * 1024];
+    for(int i=0; i<data.length; i++){
+      data[i] = (byte) (i * 31);
+    }
+    String base64 = new String(Base64.encode(data));
+    StringBuffer instance = new StringBuffer();
+    instance.append("<xml-fragment>");
+    for(int i=0; i<base64.length(); i+=76){
+      instance.append(base64, i, Math.min(i+76, base64.length())).append('\n');
+    }
+    instance.append("</xml-fragment>");
+    String doc = instance.toString();
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, data, stream);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, data, stream);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" "+(stream ? "stream" : "array")+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(String p_doc, byte[] p_data, boolean p_stream) throws Exception
+  {
+    XmlBase64Binary doc = XmlBase64Binary.Factory.parse(p_doc);
+    int hash = 0;
+
+    if(p_stream){
+      InputStream in = doc.getByteStreamValue();
+      for(int n; (n = in.read(buf)) >= 0; ){
+        for(int i=0; i<n; i+=1024){
+          hash += buf[i];
+        }
+      }
+      doc.setByteStreamValue(new ByteArrayInputStream(p_data));
+    }
+    else{
+      byte[] bytes = doc.getByteArrayValue();
+      for(int i=0; i<bytes.length; i+=1024){
+        hash += bytes[i];
+      }
+      doc.setByteArrayValue(p_data);
+    }
+
+    return hash + doc.xmlText().length();
+  }
+}
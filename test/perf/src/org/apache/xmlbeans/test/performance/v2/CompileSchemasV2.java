@@ -0,0 +1,102 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+
+/**
+ * Compiles the schemas of the xbean test cases, the J2EE deployment
+ * descriptors and the schema for schemas, on the given number of threads.
+ */
+public class CompileSchemasV2
+{
+  private static final String CASES_DIR = System.getProperty("PERF_ROOT")+Constants.P+".."+Constants.P+"cases"+Constants.P+"xbean";
+
+  private static final String[][] SCHEMAS = {
+    { "compile/scomp/j2ee/application-client_1_4.xsd",
+      "compile/scomp/j2ee/application_1_4.xsd",
+      "compile/scomp/j2ee/connector_1_5.xsd",
+      "compile/scomp/j2ee/ejb-jar_2_1.xsd",
+      "compile/scomp/j2ee/j2ee_1_4.xsd",
+      "compile/scomp/j2ee/jsp_2_0.xsd",
+      "compile/scomp/j2ee/web-app_2_4.xsd",
+      "compile/scomp/j2ee/XML.xsd" },
+    { "xmlobject/store/XMLSchema.xsd",
+      "xmlobject/store/XML.xsd" }
+  };
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 600;
+    int threads = args.length == 0 ? 1 : Integer.parseInt(args[0]);
+
+    CompileSchemasV2 test = new CompileSchemasV2();
+    long cputime;
+    int hash = 0;
+
+    // parse the schemas once; only compiling them is measured
+    XmlObject[][] schemas = new XmlObject[SCHEMAS.length][];
+    for(int i=0; i<SCHEMAS.length; i++){
+      schemas[i] = new XmlObject[SCHEMAS[i].length];
+      for(int j=0; j<SCHEMAS[i].length; j++){
+        File file = new File(CASES_DIR, SCHEMAS[i][j].replace('/', File.separatorChar));
+        schemas[i][j] = XmlObject.Factory.parse(file,
+          new XmlOptions().setLoadLineNumbers().setLoadMessageDigest());
+      }
+    }
+
+    XmlOptions options = new XmlOptions();
+    options.setCompileMdefNamespaces(Collections.singleton("http://java.sun.com/xml/ns/j2ee"));
+    if(threads > 1){
+      options.setCompileParallelism(threads);
+    }
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(schemas, options);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(schemas, options);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" threads="+threads+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(XmlObject[][] p_schemas, XmlOptions p_options) throws Exception
+  {
+    int hash = 0;
+    for(int i=0; i<p_schemas.length; i++){
+      SchemaTypeSystem sts = XmlBeans.compileXsd(p_schemas[i], XmlBeans.getBuiltinTypeSystem(), p_options);
+      hash += sts.globalTypes().length;
+    }
+    return hash;
+  }
+}
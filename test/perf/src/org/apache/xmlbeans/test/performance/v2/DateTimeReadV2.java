@@ -0,0 +1,115 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.SimpleValue;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+
+/**
+ * Reads the xs:dateTime values of a freshly parsed document once each,
+ * either as a Calendar ("calendar", the default), as a GDate ("gdate") or
+ * as a Date ("date").  Only the time spent reading is measured.
+ */
+public class DateTimeReadV2
+{
+  private static final String NS = "http://xbean/perf/datetime";
+
+  private long readtime;
+
+  public static void main(String[] args) throws Exception
+  {
+    String how = args.length > 0 ? args[0] : "calendar";
+
+    DateTimeReadV2 test = new DateTimeReadV2();
+    int iterations = Constants.ITERATIONS;
+    int hash = 0;
+
+    String xsd =
+      "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+      " targetNamespace='"+NS+"' elementFormDefault='qualified'>" +
+      "<xs:element name='events'><xs:complexType><xs:sequence>" +
+      "<xs:element name='at' type='xs:dateTime' maxOccurs='unbounded'/>" +
+      "</xs:sequence></xs:complexType></xs:element>" +
+      "</xs:schema>";
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(xsd) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    // build the doc, with and without time zones and fractions
+    StringBuffer instance = new StringBuffer();
+    instance.append("<events xmlns='"+NS+"'>");
+    for(int i=0; i<Constants.PO_NUM_LINEITEMS * 16; i++){
+      instance.append("<at>2004-"+pad(i%12+1)+"-"+pad(i%28+1)+"T"+pad(i%24)+":"+pad(i%60)+":"+pad(i*7%60));
+      instance.append(i%3 == 0 ? ".125Z" : i%3 == 1 ? "-05:00" : "");
+      instance.append("</at>");
+    }
+    instance.append("</events>");
+    String doc = instance.toString();
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(loader, doc, how);
+    }
+
+    // run it again for the real measurement
+    test.readtime = 0;
+    for(int i=0; i<iterations; i++){
+      hash += test.run(loader, doc, how);
+    }
+    long cputime = test.readtime / 1000000;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" "+how+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private static String pad(int i)
+  {
+    return i < 10 ? "0"+i : ""+i;
+  }
+
+  private int run(SchemaTypeLoader p_loader, String p_doc, String p_how) throws Exception
+  {
+    // parse the doc
+    XmlObject doc = p_loader.parse(p_doc, null, null);
+    XmlObject[] ats = doc.selectPath("declare namespace n='"+NS+"' ./n:events/n:at");
+
+    // read the dates
+    long start = System.nanoTime();
+    long hash = 0;
+    for(int i=0; i<ats.length; i++)
+    {
+      SimpleValue at = (SimpleValue) ats[i];
+      if(p_how.equals("gdate"))
+        hash += at.getGDateValue().getHour();
+      else if(p_how.equals("date"))
+        hash += at.getDateValue().getTime();
+      else
+        hash += at.getCalendarValue().getTimeInMillis();
+    }
+    readtime += System.nanoTime() - start;
+
+    return (int) hash;
+  }
+}
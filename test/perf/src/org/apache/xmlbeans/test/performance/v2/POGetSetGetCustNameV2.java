@@ -16,6 +16,7 @@ package org.apache.xmlbeans.test.performance.v2;
 
 import java.io.CharArrayReader;
 
+import org.apache.xmlbeans.XmlOptions;
 import org.apache.xmlbeans.test.performance.utils.PerfUtil;
 import org.apache.xmlbeans.test.performance.utils.Constants;
 
@@ -81,7 +82,8 @@ public class POGetSetGetCustNameV2
         
     // parse the instance
     PurchaseOrderDocument podoc = 
-      PurchaseOrderDocument.Factory.parse(new CharArrayReader(chars));
+      PurchaseOrderDocument.Factory.parse(new CharArrayReader(chars),
+        Constants.UNSYNCHRONIZED ? new XmlOptions().setUnsynchronized() : null);
     PurchaseOrder po = podoc.getPurchaseOrder();
     Customer customer = po.getCustomer();
 
@@ -0,0 +1,87 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+// from v2-generated schema jar(s)
+import org.openuri.easypo.PurchaseOrderDocument;
+import org.openuri.easypo.PurchaseOrderDocument.PurchaseOrder;
+
+/**
+ * Reads the shipper of a parsed purchase order over and over.  The
+ * shipper comes after all of the line items, so each read passes the
+ * line item siblings by name before it finds it.
+ */
+public class POGetShipperNameV2
+{
+  public static void main(String[] args) throws Exception
+  {
+
+    final int iterations = Constants.GET_SET_ITERATIONS;
+    POGetShipperNameV2 test = new POGetShipperNameV2();
+    long cputime;
+    int hash = 0;
+
+    // build the doc
+    StringBuffer instance = new StringBuffer();
+    instance.append("<po:purchase-order xmlns:po='"+Constants.PO_NS+"'>");
+    instance.append("<po:customer><po:name>"+Constants.PO_CUSTOMER_NAME+"</po:name>");
+    instance.append("<po:address>"+Constants.PO_CUSTOMER_ADDR+"</po:address></po:customer>");
+    instance.append("<po:date>"+Constants.PO_DATE_STRING+"</po:date>");
+    for(int i=0; i<Constants.PO_NUM_LINEITEMS; i++){
+      instance.append("<po:line-item>");
+      instance.append("<po:description>"+Constants.PO_LI_DESC+"</po:description>");
+      instance.append("<po:per-unit-ounces>"+Constants.PO_LI_PUO_STRING+"</po:per-unit-ounces>");
+      instance.append("<po:price>"+Constants.PO_LI_PRICE_STRING+"</po:price>");
+      instance.append("<po:quantity>"+Constants.PO_LI_QUANTITY_STRING+"</po:quantity>");
+      instance.append("</po:line-item>");
+    }
+    instance.append("<po:shipper><po:name>"+Constants.PO_SHIPPER_NAME+"</po:name>");
+    instance.append("<po:per-ounce-rate>"+Constants.PO_SHIPPER_POR_STRING+"</po:per-ounce-rate></po:shipper>");
+    instance.append("</po:purchase-order>");
+
+    // parse the instance
+    PurchaseOrderDocument podoc =
+      PurchaseOrderDocument.Factory.parse(instance.toString());
+    PurchaseOrder po = podoc.getPurchaseOrder();
+
+    // warm up the vm
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(po);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(po);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(PurchaseOrder p_po) throws Exception
+  {
+    return p_po.getShipper().getName().length() * 17;
+  }
+
+}
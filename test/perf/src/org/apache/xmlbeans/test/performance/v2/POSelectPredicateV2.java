@@ -0,0 +1,119 @@
+/*   Copyright 2004 The Apache Software Foundation
+*
+*   Licensed under the Apache License, Version 2.0 (the "License");
+*   you may not use this file except in compliance with the License.
+*   You may obtain a copy of the License at
+*
+*       http://www.apache.org/licenses/LICENSE-2.0
+*
+*   Unless required by applicable law or agreed to in writing, software
+*   distributed under the License is distributed on an "AS IS" BASIS,
+*   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*   See the License for the specific language governing permissions and
+*  limitations under the License.
+*/
+package org.apache.xmlbeans.test.performance.v2;
+
+//import java.io.File;
+import java.io.CharArrayReader;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+import org.apache.xmlbeans.test.performance.utils.PerfUtil;
+//import org.openuri.easypo.LineItem;
+import org.openuri.easypo.PurchaseOrderDocument;
+//import org.openuri.easypo.Shipper;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+
+
+public class POSelectPredicateV2
+{
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS;
+    String filename;
+
+    if(args.length == 0){
+      filename = Constants.PO_INSTANCE_1;
+    }
+    else if(args[0].length() > 1){
+      filename = Constants.XSD_DIR+Constants.P+args[0];
+    }
+    else{
+      switch( Integer.parseInt(args[0]) )
+      {
+      case 1: filename = Constants.PO_INSTANCE_1; break;
+      case 2: filename = Constants.PO_INSTANCE_2; break;  
+      case 3: filename = Constants.PO_INSTANCE_3; break;
+      case 4: filename = Constants.PO_INSTANCE_4; break;
+      case 5: filename = Constants.PO_INSTANCE_5; break;
+      case 6: filename = Constants.PO_INSTANCE_6; break;
+      case 7: filename = Constants.PO_INSTANCE_7; break;
+      default: filename = Constants.PO_INSTANCE_1; break;
+      }
+    }    
+
+    POSelectPredicateV2 test = new POSelectPredicateV2();
+    PerfUtil util = new PerfUtil();
+    long cputime;
+    int hash = 0;
+
+    // get the xmlinstance
+    char[] chars = util.fileToChars(filename);
+    
+    // unmarshall the xml instance
+    PurchaseOrderDocument poDoc = 
+      PurchaseOrderDocument.Factory.parse(new CharArrayReader(chars));       
+    // retreive the purchase order
+    PurchaseOrderDocument.PurchaseOrder po = poDoc.getPurchaseOrder();
+        
+    // the builtin engine handles the predicates and text() natively,
+    // compare it with forcing the same paths through the delegate engine
+    XmlOptions builtin = new XmlOptions();
+    XmlOptions delegate = new XmlOptions();
+    delegate.put("use delegate for xpath");
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(po, builtin);
+      hash += test.run(po, delegate);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(po, builtin);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    long delegatetime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(po, delegate);
+    }
+    delegatetime = System.currentTimeMillis() - delegatetime;
+      
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" filesize="+chars.length+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+" ");
+    System.out.print("delegate-time "+delegatetime+"\n");
+  }
+
+  private int run(PurchaseOrderDocument.PurchaseOrder p_po, XmlOptions options) throws Exception
+  {
+    String ns = "declare namespace s='"+Constants.PO_NS+"'; ";
+
+    XmlObject[] results = p_po.selectPath(ns+".//s:line-item[2]", options);
+
+    XmlCursor cursor = p_po.newCursor();
+    cursor.selectPath(ns+".//s:line-item/s:description/text()", options);
+    int count = cursor.getSelectionCount();
+    cursor.dispose();
+
+    return results.length + count;
+  }
+
+}
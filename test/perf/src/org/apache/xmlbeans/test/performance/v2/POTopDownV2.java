@@ -16,6 +16,7 @@ package org.apache.xmlbeans.test.performance.v2;
 
 import java.util.Calendar;
 
+import org.apache.xmlbeans.XmlOptions;
 import org.apache.xmlbeans.test.performance.utils.Constants;
 import org.openuri.easypo.Customer;
 import org.openuri.easypo.LineItem;
@@ -58,7 +59,8 @@ public class POTopDownV2
   private int run() throws Exception
   {
     // create the purchase order
-    PurchaseOrderDocument podoc = PurchaseOrderDocument.Factory.newInstance();
+    PurchaseOrderDocument podoc = PurchaseOrderDocument.Factory.newInstance(
+      Constants.UNSYNCHRONIZED ? new XmlOptions().setUnsynchronized() : null);
     PurchaseOrder po = podoc.addNewPurchaseOrder();
 
     // create and initialize customer
@@ -0,0 +1,124 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Matches values against the pattern facets of shared schema types from
+ * several threads at once, the way concurrent validations do.  The same
+ * amount of matching is split between the threads.
+ */
+public class PatternFacetThreadsV2
+{
+  private static final String NS = "http://xbean/perf/pattern";
+
+  private static final String[] PATTERNS = {
+    "\\d{3}-\\d{2}-\\d{4}",
+    "[A-Z]{2}\\d{5}",
+    "[\\.a-zA-Z0-9_-]+@[a-zA-Z0-9_-]+(\\.[a-zA-Z0-9_-]+)+",
+    "\\d{4}-\\d{2}-\\d{2}",
+    "[A-Z]{3}",
+  };
+
+  private static final String[] VALUES = {
+    "123-45-6789", "123-456-789", "AB12345", "ab12345",
+    "john.doe@example.com", "john@", "2004-02-29", "2004-2-29",
+    "USD", "usd",
+  };
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS;
+    int threads = args.length == 0 ? 4 : Integer.parseInt(args[0]);
+
+    PatternFacetThreadsV2 test = new PatternFacetThreadsV2();
+    long cputime;
+    int hash = 0;
+
+    StringBuffer sb = new StringBuffer();
+    sb.append("<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema' targetNamespace='"+NS+"'>");
+    for(int i=0; i<PATTERNS.length; i++){
+      sb.append("<xs:simpleType name='p"+i+"'><xs:restriction base='xs:string'>");
+      sb.append("<xs:pattern value='"+PATTERNS[i]+"'/>");
+      sb.append("</xs:restriction></xs:simpleType>");
+    }
+    sb.append("</xs:schema>");
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(sb.toString()) }, XmlBeans.getBuiltinTypeSystem(), null);
+
+    SchemaType[] types = new SchemaType[PATTERNS.length];
+    for(int i=0; i<types.length; i++){
+      types[i] = sts.findType(new QName(NS, "p"+i));
+    }
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(types, threads);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(types, threads);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" threads="+threads+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(final SchemaType[] p_types, int p_threads) throws Exception
+  {
+    final int repeat = 64 / p_threads;
+    final int[] hits = new int[p_threads];
+    Thread[] threads = new Thread[p_threads];
+
+    for(int t=0; t<p_threads; t++){
+      final int slot = t;
+      threads[t] = new Thread() {
+        public void run() {
+          for(int n=0; n<repeat; n++){
+            for(int i=0; i<p_types.length; i++){
+              for(int j=0; j<VALUES.length; j++){
+                if(p_types[i].matchPatternFacet(VALUES[j]))
+                  hits[slot]++;
+              }
+            }
+          }
+        }
+      };
+      threads[t].start();
+    }
+
+    int hash = 0;
+    for(int t=0; t<p_threads; t++){
+      threads[t].join();
+      hash += hits[t];
+    }
+    return hash;
+  }
+}
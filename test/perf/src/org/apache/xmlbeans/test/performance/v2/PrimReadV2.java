@@ -0,0 +1,95 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+import org.openuri.primitives.Numerics;
+import org.openuri.primitives.PrimitivesDocument;
+import org.openuri.primitives.PrimitivesDocument.Primitives;
+
+/**
+ * Reads the integral values of a freshly parsed primitives document once
+ * each, top down.  Only the time spent reading is measured, as the values
+ * are converted from the text of the store on their first read.
+ */
+public class PrimReadV2
+{
+  private long readtime;
+
+  public static void main(String[] args) throws Exception
+  {
+
+    PrimReadV2 test = new PrimReadV2();
+    int iterations = Constants.ITERATIONS;
+    int hash = 0;
+
+    // build the doc
+    StringBuffer instance = new StringBuffer();
+    instance.append("<primitives xmlns='http://openuri.org/primitives'>");
+    for(int i=0; i<Constants.PO_NUM_LINEITEMS * 4; i++){
+      instance.append("<numerics>");
+      instance.append("<mybyte>"+(i%128)+"</mybyte>");
+      instance.append("<myint> "+(Constants.myInt*i)+" </myint>");
+      instance.append("<mylong>"+(Constants.myLong*i)+"</mylong>");
+      instance.append("<myshort>"+(short)i+"</myshort>");
+      instance.append("<myhexbin>"+Constants.myHexbin.length+"</myhexbin>");
+      instance.append("<mydouble>"+Constants.myDouble+"</mydouble>");
+      instance.append("<myfloat>"+Constants.myFloat+"</myfloat>");
+      instance.append("</numerics>");
+    }
+    instance.append("<misc><mybool>true</mybool></misc></primitives>");
+    String doc = instance.toString();
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+
+    // run it again for the real measurement
+    test.readtime = 0;
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+    long cputime = test.readtime / 1000000;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(String p_doc) throws Exception
+  {
+    // parse the doc
+    PrimitivesDocument doc = PrimitivesDocument.Factory.parse(p_doc);
+    Primitives prim = doc.getPrimitives();
+
+    // read the numeric elements
+    long start = System.nanoTime();
+    long hash = 0;
+    Numerics[] numerics = prim.getNumericsArray();
+    for(int i=0; i<numerics.length; i++)
+    {
+      hash += numerics[i].getMybyte();
+      hash += numerics[i].getMyint();
+      hash += numerics[i].getMylong();
+      hash += numerics[i].getMyshort();
+    }
+    readtime += System.nanoTime() - start;
+
+    return (int) hash;
+  }
+}
@@ -0,0 +1,81 @@
+/*   Copyright 2004 The Apache Software Foundation
+*
+*   Licensed under the Apache License, Version 2.0 (the "License");
+*   you may not use this file except in compliance with the License.
+*   You may obtain a copy of the License at
+*
+*       http://www.apache.org/licenses/LICENSE-2.0
+*
+*   Unless required by applicable law or agreed to in writing, software
+*   distributed under the License is distributed on an "AS IS" BASIS,
+*   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+*   See the License for the specific language governing permissions and
+*  limitations under the License.
+*/
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+import org.openuri.primitives.Numerics;
+import org.openuri.primitives.PrimitivesDocument;
+import org.openuri.primitives.PrimitivesDocument.Primitives;
+
+/**
+ * Sets a 100k element array with the generated array setter: first into an
+ * empty document, then over the elements already there, then over half as
+ * many of them.
+ */
+public class PrimSetArrayV2
+{
+  private static final int NUM_ELEMENTS = 100000;
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 1000;
+
+    PrimSetArrayV2 test = new PrimSetArrayV2();
+    long cputime;
+    int hash = 0;
+
+    // build the array to set
+    Numerics[] numerics = new Numerics[NUM_ELEMENTS];
+    for(int i=0; i<NUM_ELEMENTS; i++){
+      numerics[i] = Numerics.Factory.newInstance();
+      numerics[i].setMyint(i);
+    }
+    Numerics[] half = new Numerics[NUM_ELEMENTS / 2];
+    System.arraycopy(numerics, 0, half, 0, half.length);
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(numerics, half);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(numerics, half);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(Numerics[] p_numerics, Numerics[] p_half) throws Exception
+  {
+    PrimitivesDocument doc = PrimitivesDocument.Factory.newInstance();
+    Primitives prim = doc.addNewPrimitives();
+    prim.addNewMisc().setMybool(Constants.myBool);
+
+    prim.setNumericsArray(p_numerics);
+    prim.setNumericsArray(p_numerics);
+    prim.setNumericsArray(p_half);
+
+    // calculate a hash to return
+    int hash = prim.sizeOfNumericsArray() * 17 + prim.getNumericsArray(p_half.length - 1).getMyint();
+    return hash;
+  }
+}
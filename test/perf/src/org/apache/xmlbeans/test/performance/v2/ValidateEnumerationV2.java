@@ -0,0 +1,90 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+
+/**
+ * Validates a document of codes against a string enumeration with many
+ * values, the way currency, country or product codes are declared.
+ */
+public class ValidateEnumerationV2
+{
+  private static final String NS = "http://xbean/perf/enumeration";
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS;
+    int size = args.length == 0 ? 5000 : Integer.parseInt(args[0]);
+
+    ValidateEnumerationV2 test = new ValidateEnumerationV2();
+    long cputime;
+    int hash = 0;
+
+    StringBuffer sb = new StringBuffer();
+    sb.append("<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'");
+    sb.append(" xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>");
+    sb.append("<xs:simpleType name='code'><xs:restriction base='xs:string'>");
+    for(int i=0; i<size; i++){
+      sb.append("<xs:enumeration value='C"+i+"'/>");
+    }
+    sb.append("</xs:restriction></xs:simpleType>");
+    sb.append("<xs:element name='codes'><xs:complexType><xs:sequence>");
+    sb.append("<xs:element name='code' type='n:code' maxOccurs='unbounded'/>");
+    sb.append("</xs:sequence></xs:complexType></xs:element>");
+    sb.append("</xs:schema>");
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(sb.toString()) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    StringBuffer instance = new StringBuffer();
+    instance.append("<codes xmlns='"+NS+"'>");
+    for(int i=0; i<200; i++){
+      instance.append("<code>C"+(i*7919 % size)+"</code>");
+    }
+    instance.append("</codes>");
+    XmlObject doc = loader.parse(instance.toString(), null, null);
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" enumeration="+size+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(XmlObject p_doc) throws Exception
+  {
+    return p_doc.validate() ? 17 : 0;
+  }
+}
@@ -0,0 +1,102 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+
+/**
+ * Validates documents of which every tenth record is invalid, either to
+ * the end ("all", the default) or stopping at the first error ("first").
+ */
+public class ValidateErrorLimitV2
+{
+  private static final String NS = "http://xbean/perf/errorlimit";
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 10;
+    boolean first = args.length > 0 && args[0].equals("first");
+
+    ValidateErrorLimitV2 test = new ValidateErrorLimitV2();
+    long cputime;
+    int hash = 0;
+
+    String xsd =
+      "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+      " xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>" +
+      "<xs:complexType name='row'><xs:sequence>" +
+      "<xs:element name='code' type='xs:token'/>" +
+      "<xs:element name='count' type='xs:int'/>" +
+      "<xs:element name='price' type='xs:decimal'/>" +
+      "<xs:element name='note' type='xs:string' minOccurs='0'/>" +
+      "</xs:sequence></xs:complexType>" +
+      "<xs:element name='rows'><xs:complexType><xs:sequence>" +
+      "<xs:element name='row' type='n:row' maxOccurs='unbounded'/>" +
+      "</xs:sequence></xs:complexType></xs:element>" +
+      "</xs:schema>";
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(xsd) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    // the errors alternate between a missing element and a bad value
+    StringBuffer instance = new StringBuffer();
+    instance.append("<rows xmlns='"+NS+"'>");
+    for(int i=0; i<Constants.PO_NUM_LINEITEMS * 20; i++){
+      instance.append("<row>");
+      instance.append("<code>C"+i+"</code>");
+      if(i%20 != 5)
+        instance.append("<count>"+i+"</count>");
+      instance.append("<price>"+(i%20 == 15 ? "n/a" : i+".95")+"</price>");
+      instance.append("</row>");
+    }
+    instance.append("</rows>");
+    XmlObject doc = loader.parse(instance.toString(), null, null);
+
+    XmlOptions options = new XmlOptions();
+    if(first)
+      options.setValidateErrorLimit(1);
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, options);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, options);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" "+(first ? "first" : "all")+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(XmlObject p_doc, XmlOptions p_options) throws Exception
+  {
+    return p_doc.validate(p_options) ? 17 : 1;
+  }
+}
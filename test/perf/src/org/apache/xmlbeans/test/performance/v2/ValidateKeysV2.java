@@ -0,0 +1,101 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+
+/**
+ * Validates a table of many rows with a key, a unique and a keyref, and
+ * a key of two fields.
+ */
+public class ValidateKeysV2
+{
+  private static final String NS = "http://xbean/perf/keys";
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 600;
+    int rows = args.length == 0 ? 100000 : Integer.parseInt(args[0]);
+
+    ValidateKeysV2 test = new ValidateKeysV2();
+    long cputime;
+    int hash = 0;
+
+    String xsd =
+      "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+      " xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>" +
+      "<xs:complexType name='row'><xs:sequence>" +
+      "<xs:element name='code' type='xs:token'/>" +
+      "<xs:element name='region' type='xs:string'/>" +
+      "<xs:element name='amount' type='xs:decimal'/>" +
+      "</xs:sequence><xs:attribute name='id' type='xs:int'/>" +
+      "<xs:attribute name='parent' type='xs:int'/></xs:complexType>" +
+      "<xs:element name='table'><xs:complexType><xs:sequence>" +
+      "<xs:element name='row' type='n:row' maxOccurs='unbounded'/>" +
+      "</xs:sequence></xs:complexType>" +
+      "<xs:key name='ids'><xs:selector xpath='n:row'/><xs:field xpath='@id'/></xs:key>" +
+      "<xs:unique name='codes'><xs:selector xpath='n:row'/><xs:field xpath='n:code'/></xs:unique>" +
+      "<xs:key name='places'><xs:selector xpath='n:row'/>" +
+      "<xs:field xpath='n:region'/><xs:field xpath='@id'/></xs:key>" +
+      "<xs:keyref name='parents' refer='n:ids'><xs:selector xpath='n:row'/><xs:field xpath='@parent'/></xs:keyref>" +
+      "</xs:element>" +
+      "</xs:schema>";
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(xsd) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    StringBuffer instance = new StringBuffer();
+    instance.append("<table xmlns='"+NS+"'>");
+    for(int i=0; i<rows; i++){
+      instance.append("<row id='"+i+"' parent='"+(i/2)+"'>");
+      instance.append("<code>C"+i+"</code>");
+      instance.append("<region>R"+(i%50)+"</region>");
+      instance.append("<amount>"+i+".25</amount>");
+      instance.append("</row>");
+    }
+    instance.append("</table>");
+    XmlObject doc = loader.parse(instance.toString(), null, null);
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" rows="+rows+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(XmlObject p_doc) throws Exception
+  {
+    return p_doc.validate() ? 17 : 0;
+  }
+}
@@ -0,0 +1,135 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.validator.Validator;
+
+/**
+ * Validates a document against a schema of deeply nested sequences and
+ * choices, once with the compiled content model automata (time) and once
+ * interpreting the content models (interpreted-time).
+ */
+public class ValidateNestedContentV2
+{
+  private static final String NS = "http://xbean/perf/nested";
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS;
+    int depth = args.length == 0 ? 16 : Integer.parseInt(args[0]);
+
+    ValidateNestedContentV2 test = new ValidateNestedContentV2();
+    long cputime;
+    int hash = 0;
+
+    XmlObject xsd = XmlObject.Factory.parse(schema(depth));
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { xsd },
+      XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    String instance = instance(depth);
+    XmlObject doc = loader.parse(instance, null, null);
+
+    XmlOptions compiled = new XmlOptions();
+    XmlOptions interpreted = new XmlOptions();
+    interpreted.put(Validator.INTERPRET_CONTENT_MODELS);
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, compiled);
+      hash += test.run(doc, interpreted);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, compiled);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    long interpretedtime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, interpreted);
+    }
+    interpretedtime = System.currentTimeMillis() - interpretedtime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" depth="+depth+" filesize="+instance.length()+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+" ");
+    System.out.print("interpreted-time "+interpretedtime+"\n");
+  }
+
+  private int run(XmlObject p_doc, XmlOptions p_options) throws Exception
+  {
+    return p_doc.validate(p_options) ? 17 : 0;
+  }
+
+  // level i: a, then any number of (b | (c, level i+1?)), then d{1,3}
+
+  private static String schema(int depth)
+  {
+    StringBuffer sb = new StringBuffer();
+    sb.append("<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'");
+    sb.append(" xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>");
+    for(int i=0; i<depth; i++){
+      sb.append("<xs:complexType name='level"+i+"'><xs:sequence>");
+      sb.append("<xs:element name='a' type='xs:string'/>");
+      sb.append("<xs:choice minOccurs='0' maxOccurs='unbounded'>");
+      sb.append("<xs:element name='b' type='xs:string'/>");
+      sb.append("<xs:sequence><xs:element name='c' type='xs:string'/>");
+      if(i+1 < depth)
+        sb.append("<xs:element name='level' type='n:level"+(i+1)+"' minOccurs='0'/>");
+      sb.append("</xs:sequence></xs:choice>");
+      sb.append("<xs:element name='d' type='xs:string' maxOccurs='3'/>");
+      sb.append("</xs:sequence></xs:complexType>");
+    }
+    sb.append("<xs:element name='root' type='n:level0'/>");
+    sb.append("</xs:schema>");
+    return sb.toString();
+  }
+
+  private static String instance(int depth)
+  {
+    StringBuffer sb = new StringBuffer();
+    sb.append("<root xmlns='"+NS+"'>");
+    level(sb, 0, depth);
+    sb.append("</root>");
+    return sb.toString();
+  }
+
+  private static void level(StringBuffer sb, int i, int depth)
+  {
+    sb.append("<a/>");
+    for(int j=0; j<50; j++){
+      sb.append("<b/><c/>");
+      if(j == 0 && i+1 < depth){
+        sb.append("<level>");
+        level(sb, i+1, depth);
+        sb.append("</level>");
+      }
+    }
+    sb.append("<d/><d/>");
+  }
+}
@@ -0,0 +1,103 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+
+/**
+ * Validates a document of many records, the way large filings are made,
+ * on the given number of threads.
+ */
+public class ValidateParallelV2
+{
+  private static final String NS = "http://xbean/perf/parallel";
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 100;
+    int threads = args.length == 0 ? 1 : Integer.parseInt(args[0]);
+
+    ValidateParallelV2 test = new ValidateParallelV2();
+    long cputime;
+    int hash = 0;
+
+    String xsd =
+      "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+      " xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>" +
+      "<xs:simpleType name='code'><xs:restriction base='xs:string'>" +
+      "<xs:pattern value='[A-Z]{3}-\\d{4}'/></xs:restriction></xs:simpleType>" +
+      "<xs:complexType name='record'><xs:sequence>" +
+      "<xs:element name='code' type='n:code'/>" +
+      "<xs:element name='date' type='xs:date'/>" +
+      "<xs:element name='amount' type='xs:decimal' maxOccurs='unbounded'/>" +
+      "</xs:sequence><xs:attribute name='id' type='xs:ID'/></xs:complexType>" +
+      "<xs:element name='filing'><xs:complexType><xs:sequence>" +
+      "<xs:element name='record' type='n:record' maxOccurs='unbounded'/>" +
+      "</xs:sequence></xs:complexType></xs:element>" +
+      "</xs:schema>";
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(xsd) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    StringBuffer instance = new StringBuffer();
+    instance.append("<filing xmlns='"+NS+"'>");
+    for(int i=0; i<10000; i++){
+      instance.append("<record id='r"+i+"'><code>ABC-"+(1000+i%9000)+"</code>");
+      instance.append("<date>2004-02-"+(10+i%19)+"</date>");
+      for(int j=0; j<5; j++){
+        instance.append("<amount>"+i+"."+j+"</amount>");
+      }
+      instance.append("</record>");
+    }
+    instance.append("</filing>");
+    XmlObject doc = loader.parse(instance.toString(), null, null);
+
+    XmlOptions options = new XmlOptions();
+    if(threads > 1){
+      options.setValidateParallelism(threads);
+    }
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, options);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, options);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" threads="+threads+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(XmlObject p_doc, XmlOptions p_options) throws Exception
+  {
+    return p_doc.validate(p_options) ? 17 : 0;
+  }
+}
@@ -0,0 +1,149 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.xmlbeans.test.performance.v2;
+
+import org.apache.xmlbeans.test.performance.utils.Constants;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt;
+import org.apache.xmlbeans.impl.richParser.XMLStreamReaderExtImpl;
+import org.apache.xmlbeans.impl.validator.ValidatingXMLStreamReader;
+import org.apache.xmlbeans.impl.validator.ValidatingXMLStreamReaderExt;
+
+/**
+ * Validates a stream of rows and reads the typed values of their fields,
+ * either with an XMLStreamReaderExtImpl over a ValidatingXMLStreamReader
+ * ("separate", the default) or with a ValidatingXMLStreamReaderExt
+ * ("combined").
+ */
+public class ValidateTypedValuesV2
+{
+  private static final String NS = "http://xbean/perf/typed";
+
+  private static final XMLInputFactory _factory = XMLInputFactory.newInstance();
+
+  public static void main(String[] args) throws Exception
+  {
+    final int iterations = Constants.ITERATIONS / 10;
+    boolean combined = args.length > 0 && args[0].equals("combined");
+
+    ValidateTypedValuesV2 test = new ValidateTypedValuesV2();
+    long cputime;
+    int hash = 0;
+
+    String xsd =
+      "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+      " xmlns:n='"+NS+"' targetNamespace='"+NS+"' elementFormDefault='qualified'>" +
+      "<xs:complexType name='row'><xs:sequence>" +
+      "<xs:element name='count' type='xs:int'/>" +
+      "<xs:element name='price' type='xs:decimal'/>" +
+      "<xs:element name='date' type='xs:dateTime'/>" +
+      "<xs:element name='kind' type='xs:QName'/>" +
+      "</xs:sequence><xs:attribute name='id' type='xs:long'/></xs:complexType>" +
+      "<xs:element name='rows'><xs:complexType><xs:sequence>" +
+      "<xs:element name='row' type='n:row' maxOccurs='unbounded'/>" +
+      "</xs:sequence></xs:complexType></xs:element>" +
+      "</xs:schema>";
+
+    SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] {
+      XmlObject.Factory.parse(xsd) }, XmlBeans.getBuiltinTypeSystem(), null);
+    SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+      sts, XmlBeans.getBuiltinTypeSystem() });
+
+    StringBuffer instance = new StringBuffer();
+    instance.append("<rows xmlns='"+NS+"' xmlns:k='urn:kinds'>");
+    for(int i=0; i<Constants.PO_NUM_LINEITEMS * 10; i++){
+      instance.append("<row id='"+i+"'>");
+      instance.append("<count>"+i+"</count>");
+      instance.append("<price>"+i+".95</price>");
+      instance.append("<date>2004-08-"+(10+i%20)+"T12:30:00Z</date>");
+      instance.append("<kind>k:kind"+(i%5)+"</kind>");
+      instance.append("</row>");
+    }
+    instance.append("</rows>");
+    String doc = instance.toString();
+
+    // warm up the vm
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, loader, combined);
+    }
+
+    // run it again for the real measurement
+    cputime = System.currentTimeMillis();
+    for(int i=0; i<iterations; i++){
+      hash += test.run(doc, loader, combined);
+    }
+    cputime = System.currentTimeMillis() - cputime;
+
+    // print the results
+    // Class.getSimpleName() is only provided in jdk1.5, so have to trim package name off test name for logging to support 1.4
+    System.out.print(Constants.DELIM+test.getClass().getName().substring(test.getClass().getName().lastIndexOf('.')+1)+" "+(combined ? "combined" : "separate")+" ");
+    System.out.print("hash "+hash+" ");
+    System.out.print("time "+cputime+"\n");
+  }
+
+  private int run(String p_doc, SchemaTypeLoader p_loader, boolean p_combined) throws Exception
+  {
+    XMLStreamReader xsr = _factory.createXMLStreamReader(new StringReader(p_doc));
+    ValidatingXMLStreamReader reader;
+    XMLStreamReaderExt ext;
+
+    if (p_combined)
+    {
+      ValidatingXMLStreamReaderExt r = new ValidatingXMLStreamReaderExt();
+      reader = r;
+      ext = r;
+    }
+    else
+    {
+      reader = new ValidatingXMLStreamReader();
+      ext = new XMLStreamReaderExtImpl(reader);
+    }
+
+    reader.init(xsr, true, null, p_loader, null, new ArrayList());
+
+    int hash = 0;
+
+    while (reader.hasNext())
+    {
+      if (reader.next() != XMLStreamReader.START_ELEMENT)
+        continue;
+
+      String name = reader.getLocalName();
+
+      if (name.equals("row"))
+        hash += (int) ext.getAttributeLongValue(0);
+      else if (name.equals("count"))
+        hash += ext.getIntValue();
+      else if (name.equals("price"))
+        hash += ext.getBigDecimalValue().scale();
+      else if (name.equals("date"))
+        hash += ext.getGDateValue().getDay();
+      else if (name.equals("kind"))
+        hash += ext.getQNameValue().getLocalPart().length();
+    }
+
+    return reader.isValid() ? hash : 0;
+  }
+}
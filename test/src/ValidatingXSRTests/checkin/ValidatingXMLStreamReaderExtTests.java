@@ -0,0 +1,271 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package ValidatingXSRTests.checkin;
+
+import org.apache.xmlbeans.*;
+import org.apache.xmlbeans.impl.common.InvalidLexicalValueException;
+import org.apache.xmlbeans.impl.richParser.XMLStreamReaderExtImpl;
+import org.apache.xmlbeans.impl.validator.ValidatingXMLStreamReader;
+import org.apache.xmlbeans.impl.validator.ValidatingXMLStreamReaderExt;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the values of a ValidatingXMLStreamReaderExt with those of an
+ * XMLStreamReaderExtImpl over a ValidatingXMLStreamReader.
+ */
+public class ValidatingXMLStreamReaderExtTests {
+    private static final String NS = "http://xbean/test/vxsrext";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        "<xs:simpleType name='small'><xs:restriction base='xs:int'>" +
+        "<xs:maxInclusive value='100'/></xs:restriction></xs:simpleType>" +
+        "<xs:complexType name='amount'><xs:simpleContent><xs:extension base='xs:decimal'>" +
+        "<xs:attribute name='currency' type='xs:QName'/></xs:extension></xs:simpleContent></xs:complexType>" +
+        "<xs:element name='doc'><xs:complexType><xs:sequence>" +
+        "<xs:element name='i' type='xs:int'/>" +
+        "<xs:element name='s' type='t:small'/>" +
+        "<xs:element name='l' type='xs:long'/>" +
+        "<xs:element name='big' type='xs:integer'/>" +
+        "<xs:element name='d' type='xs:decimal'/>" +
+        "<xs:element name='a' type='t:amount'/>" +
+        "<xs:element name='q' type='xs:QName'/>" +
+        "<xs:element name='dt' type='xs:dateTime'/>" +
+        "<xs:element name='date' type='xs:date'/>" +
+        "<xs:element name='dur' type='xs:duration'/>" +
+        "<xs:element name='str' type='xs:string'/>" +
+        "<xs:element name='b' type='xs:boolean'/>" +
+        "<xs:element name='f' type='xs:double'/>" +
+        "<xs:element name='any' minOccurs='0'><xs:complexType><xs:sequence>" +
+        "<xs:any processContents='skip' maxOccurs='unbounded'/></xs:sequence></xs:complexType></xs:element>" +
+        "</xs:sequence>" +
+        "<xs:attribute name='count' type='xs:short'/>" +
+        "<xs:attribute name='when' type='xs:date'/>" +
+        "<xs:attribute name='kind' type='xs:QName'/>" +
+        "<xs:attribute name='ttl' type='xs:duration'/>" +
+        "<xs:attribute name='flag' type='xs:boolean'/>" +
+        "</xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    private static final String DOC =
+        "<doc xmlns='" + NS + "' xmlns:p='urn:p' count=' 12 ' when='2009-07-23'" +
+        " kind='p:k' ttl='PT5M' flag='true'>" +
+        "<i> -42 </i><s>100</s><l>9223372036854775807</l>" +
+        "<big>123456789012345678901234567890</big><d>+007.250</d>" +
+        "<a currency='p:eur'>12.5</a><q>p:name</q>" +
+        "<dt>2009-07-23T10:20:30.5Z</dt><date>2009-07-23-05:00</date>" +
+        "<dur>P1Y2M3DT4H</dur><str> a  b </str><b>1</b><f>1.5E2</f>" +
+        "<any><x>77</x></any>" +
+        "</doc>";
+
+    private static SchemaTypeLoader _loader;
+
+    private static SchemaTypeLoader loader() throws XmlException
+    {
+        if (_loader == null)
+        {
+            SchemaTypeSystem sts = XmlBeans.compileXsd(
+                new XmlObject[] { XmlObject.Factory.parse(XSD) },
+                XmlBeans.getBuiltinTypeSystem(), null);
+
+            _loader = XmlBeans.typeLoaderUnion(
+                new SchemaTypeLoader[] { sts, XmlBeans.getBuiltinTypeSystem() });
+        }
+
+        return _loader;
+    }
+
+    private static XMLStreamReader source(String doc) throws XmlException
+    {
+        return XmlObject.Factory.parse(doc).newXMLStreamReader();
+    }
+
+    private static ValidatingXMLStreamReaderExt combined(String doc, List errors)
+        throws XmlException
+    {
+        ValidatingXMLStreamReaderExt r = new ValidatingXMLStreamReaderExt();
+        r.init(source(doc), true, null, loader(), null, errors);
+        return r;
+    }
+
+    private static List read(XMLStreamReader r, org.apache.xmlbeans.impl.richParser.XMLStreamReaderExt ext)
+        throws XMLStreamException
+    {
+        List values = new ArrayList();
+
+        for (int event = r.getEventType(); r.hasNext(); event = r.next())
+        {
+            if (event != XMLStreamReader.START_ELEMENT)
+                continue;
+
+            String name = r.getLocalName();
+
+            if (name.equals("doc"))
+            {
+                values.add(new Short(ext.getAttributeShortValue(0)));
+                values.add(new Integer(ext.getAttributeIntValue("", "count")));
+                values.add(ext.getAttributeGDateValue("", "when"));
+                values.add(ext.getAttributeDateValue(1));
+                values.add(ext.getAttributeQNameValue("", "kind"));
+                values.add(ext.getAttributeGDurationValue(3));
+                values.add(Boolean.valueOf(ext.getAttributeBooleanValue("", "flag")));
+            }
+            else if (name.equals("i") || name.equals("s"))
+                values.add(new Integer(ext.getIntValue()));
+            else if (name.equals("l"))
+                values.add(new Long(ext.getLongValue()));
+            else if (name.equals("big"))
+                values.add(ext.getBigIntegerValue());
+            else if (name.equals("d"))
+                values.add(ext.getBigDecimalValue());
+            else if (name.equals("a"))
+            {
+                values.add(ext.getAttributeQNameValue(0));
+                values.add(ext.getBigDecimalValue());
+            }
+            else if (name.equals("q"))
+                values.add(ext.getQNameValue());
+            else if (name.equals("dt"))
+                values.add(ext.getCalendarValue().getTime());
+            else if (name.equals("date"))
+                values.add(ext.getGDateValue());
+            else if (name.equals("dur"))
+                values.add(ext.getGDurationValue());
+            else if (name.equals("str"))
+                values.add(ext.getStringValue());
+            else if (name.equals("b"))
+                values.add(Boolean.valueOf(ext.getBooleanValue()));
+            else if (name.equals("f"))
+                values.add(new Double(ext.getDoubleValue()));
+            else if (name.equals("x"))
+                values.add(new Integer(ext.getIntValue()));
+        }
+
+        return values;
+    }
+
+    @Test
+    public void testValues() throws Exception
+    {
+        List errors = new ArrayList();
+        ValidatingXMLStreamReader valXsr = new ValidatingXMLStreamReader();
+        valXsr.init(source(DOC), true, null, loader(), null, errors);
+        List expected = read(valXsr, new XMLStreamReaderExtImpl(valXsr));
+
+        assertTrue(errors.toString(), valXsr.isValid());
+
+        ValidatingXMLStreamReaderExt r = combined(DOC, errors);
+        List actual = read(r, r);
+
+        assertTrue(errors.toString(), r.isValid());
+        assertEquals(expected, actual);
+
+        assertEquals(new Integer(-42), actual.get(7));
+        assertEquals(new BigDecimal("7.25"), actual.get(11));
+        assertEquals(new QName("urn:p", "name"), actual.get(14));
+        assertEquals(new Integer(77), actual.get(actual.size() - 1));
+    }
+
+    @Test
+    public void testIntegerRange() throws Exception
+    {
+        ValidatingXMLStreamReaderExt r = combined(DOC, new ArrayList());
+
+        while (!r.isStartElement() || !r.getLocalName().equals("l"))
+            r.next();
+
+        try
+        {
+            r.getIntValue();
+            fail("long value read as an int");
+        }
+        catch (InvalidLexicalValueException e)
+        {
+        }
+
+        while (!r.isStartElement() || !r.getLocalName().equals("big"))
+            r.next();
+
+        try
+        {
+            r.getLongValue();
+            fail("integer value read as a long");
+        }
+        catch (InvalidLexicalValueException e)
+        {
+        }
+    }
+
+    @Test
+    public void testInvalidValue() throws Exception
+    {
+        String doc = DOC.replace("<i> -42 </i>", "<i>4x2</i>");
+        List errors = new ArrayList();
+        ValidatingXMLStreamReaderExt r = combined(doc, errors);
+
+        while (!r.isStartElement() || !r.getLocalName().equals("i"))
+            r.next();
+
+        try
+        {
+            r.getIntValue();
+            fail("invalid value read");
+        }
+        catch (InvalidLexicalValueException e)
+        {
+        }
+
+        assertEquals(XMLStreamReader.END_ELEMENT, r.getEventType());
+
+        while (r.hasNext())
+            r.next();
+
+        assertFalse(r.isValid());
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testNestedElement() throws Exception
+    {
+        String doc = DOC.replace("<i> -42 </i>", "<i>1<x/></i>");
+        ValidatingXMLStreamReaderExt r = combined(doc, new ArrayList());
+
+        while (!r.isStartElement() || !r.getLocalName().equals("i"))
+            r.next();
+
+        try
+        {
+            r.getIntValue();
+            fail("element in text content");
+        }
+        catch (XMLStreamException e)
+        {
+        }
+    }
+}
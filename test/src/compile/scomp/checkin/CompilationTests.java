@@ -28,7 +28,11 @@ import org.junit.Ignore;
 import org.junit.Test;
 import tools.util.TestRunUtil;
 
+import java.io.BufferedReader;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -36,7 +40,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.jar.JarFile;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -74,6 +80,204 @@ public class CompilationTests {
         assertTrue("Cannot find " + outputjar, outputjar.exists());
     }
 
+    @Test
+    public void testNoSyncPath() throws Throwable {
+        deltree(xbeanOutput("compile/scomp/nosyncpath"));
+        File srcdir = xbeanOutput("compile/scomp/nosyncpath/src");
+        File classesdir = xbeanOutput("compile/scomp/nosyncpath/classes");
+        File outputjar = xbeanOutput("compile/scomp/nosyncpath/easypo.jar");
+        SchemaCompiler.Parameters params = new SchemaCompiler.Parameters();
+        params.setXsdFiles(new File[]{xbeanCase("../../xmlobject/easypo.xsd")});
+        params.setSrcDir(srcdir);
+        params.setClassesDir(classesdir);
+        params.setOutputJar(outputjar);
+        params.setNoSyncPath(true);
+        params.setJavaSource(XmlOptions.GENERATE_JAVA_15);
+        List errors = new ArrayList();
+        params.setErrorListener(errors);
+        boolean result = SchemaCompiler.compile(params);
+        StringWriter message = new StringWriter();
+        if (!result)
+            dumpErrors(errors, new PrintWriter(message));
+        assertTrue("Build failed:" + message, result);
+        assertTrue("Cannot find " + outputjar, outputjar.exists());
+
+        File impl = new File(srcdir, "org/openuri/easypo/impl/CustomerImpl.java");
+        BufferedReader in = new BufferedReader(new FileReader(impl));
+        StringBuilder source = new StringBuilder();
+        try {
+            for (String line; (line = in.readLine()) != null; )
+                source.append(line.trim()).append('\n');
+        } finally {
+            in.close();
+        }
+        assertTrue("No unsynchronized path in " + impl,
+            source.indexOf("if (preCheck())\nreturn getName$impl();\n") >= 0);
+        assertTrue("No synchronized path in " + impl,
+            source.indexOf("else synchronized (monitor())\n{\nreturn getName$impl();\n}\n") >= 0);
+        assertTrue("No body for getName() in " + impl,
+            source.indexOf("private java.lang.String getName$impl()\n{\ncheck_orphaned();\n") >= 0);
+        assertTrue("No unsynchronized path for setName() in " + impl,
+            source.indexOf("if (preCheck())\nsetName$impl(name);\n") >= 0);
+        assertTrue("No body for setName() in " + impl,
+            source.indexOf("private void setName$impl(java.lang.String name)\n{\ncheck_orphaned();\n") >= 0);
+        assertEquals("Bodies printed more than once in " + impl,
+            count(source, "synchronized (monitor())"), count(source, "check_orphaned();"));
+    }
+
+    private static int count(CharSequence source, String s) {
+        int n = 0;
+        for (int i = 0; (i = source.toString().indexOf(s, i)) >= 0; i += s.length())
+            n++;
+        return n;
+    }
+
+    @Test
+    public void testInProcess() throws Throwable {
+        deltree(xbeanOutput("compile/scomp/inprocess"));
+        File srcdir = xbeanOutput("compile/scomp/inprocess/src");
+        File classesdir = xbeanOutput("compile/scomp/inprocess/classes");
+        File outputjar = xbeanOutput("compile/scomp/inprocess/easypo.jar");
+        SchemaCompiler.Parameters params = new SchemaCompiler.Parameters();
+        params.setXsdFiles(new File[]{xbeanCase("../../xmlobject/easypo.xsd")});
+        params.setSrcDir(srcdir);
+        params.setClassesDir(classesdir);
+        params.setOutputJar(outputjar);
+        params.setInProcess(true);
+        List errors = new ArrayList();
+        params.setErrorListener(errors);
+        boolean result = SchemaCompiler.compile(params);
+        StringWriter message = new StringWriter();
+        if (!result)
+            dumpErrors(errors, new PrintWriter(message));
+        assertTrue("Build failed:" + message, result);
+        assertTrue("Cannot find " + outputjar, outputjar.exists());
+        assertTrue("No source written", new File(srcdir, "org/openuri/easypo/impl/CustomerImpl.java").exists());
+
+        JarFile jar = new JarFile(outputjar);
+        try {
+            assertTrue("No class in " + outputjar,
+                jar.getEntry("org/openuri/easypo/impl/CustomerImpl.class") != null);
+        } finally {
+            jar.close();
+        }
+    }
+
+    @Test
+    public void testParallelism() throws Throwable {
+        deltree(xbeanOutput("compile/scomp/parallelism"));
+        File[] xsds = new File[]{
+            xbeanCase("j2ee/application-client_1_4.xsd"),
+            xbeanCase("j2ee/j2ee_1_4.xsd"),
+            xbeanCase("j2ee/web-app_2_4.xsd"),
+            xbeanCase("j2ee/jsp_2_0.xsd"),
+            xbeanCase("j2ee/XML.xsd")
+        };
+        File[] srcdirs = new File[2];
+        for (int i = 0; i < srcdirs.length; i++) {
+            srcdirs[i] = xbeanOutput("compile/scomp/parallelism/src" + i);
+            SchemaCompiler.Parameters params = new SchemaCompiler.Parameters();
+            params.setXsdFiles(xsds);
+            params.setSrcDir(srcdirs[i]);
+            params.setClassesDir(xbeanOutput("compile/scomp/parallelism/classes" + i));
+            params.setNojavac(true);
+            params.setPojo(true);
+            params.setParallelism(i == 0 ? 1 : 4);
+            params.setMdefNamespaces(Collections.singleton("http://java.sun.com/xml/ns/j2ee"));
+            List errors = new ArrayList();
+            params.setErrorListener(errors);
+            boolean result = SchemaCompiler.compile(params);
+            StringWriter message = new StringWriter();
+            if (!result)
+                dumpErrors(errors, new PrintWriter(message));
+            assertTrue("Build failed:" + message, result);
+        }
+
+        // the same files are generated on one thread as on several
+        List<File> files = new ArrayList<File>();
+        listFiles(srcdirs[0], files);
+        assertTrue("Too few sources: " + files, files.size() > 100);
+        String prefix = srcdirs[0].getPath();
+        for (File f : files) {
+            File g = new File(srcdirs[1], f.getPath().substring(prefix.length()));
+            assertTrue("Sources differ: " + g, Arrays.equals(readBytes(f), readBytes(g)));
+        }
+        List<File> others = new ArrayList<File>();
+        listFiles(srcdirs[1], others);
+        Assert.assertEquals(files.size(), others.size());
+    }
+
+    @Test
+    public void testCompileParallelism() throws Exception {
+        // types whose restrictions and default values are wrong here and there
+        StringBuffer xsd = new StringBuffer(
+            "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema' " +
+            "    targetNamespace='urn:checks' xmlns:c='urn:checks'>" +
+            "  <xs:complexType name='base'><xs:sequence>" +
+            "    <xs:element name='a' type='xs:int'/>" +
+            "    <xs:element name='b' type='xs:string' minOccurs='0'/>" +
+            "  </xs:sequence><xs:attribute name='n' type='xs:int'/></xs:complexType>");
+        for (int i = 0; i < 60; i++) {
+            xsd.append("<xs:complexType name='t" + i + "'><xs:complexContent>" +
+                "<xs:restriction base='c:base'><xs:sequence>" +
+                (i % 7 == 0 ? "<xs:element name='b' type='xs:string'/>" :
+                    "<xs:element name='a' type='xs:int' default='" + (i % 5 == 0 ? "x" : "" + i) + "'/>") +
+                "</xs:sequence>" +
+                "<xs:attribute name='n' type='xs:int' default='" + (i % 11 == 0 ? "y" : "" + i) + "'/>" +
+                "</xs:restriction></xs:complexContent></xs:complexType>");
+        }
+        xsd.append("</xs:schema>");
+
+        List[] errors = new List[2];
+        for (int i = 0; i < errors.length; i++) {
+            errors[i] = new ArrayList();
+            XmlOptions options = new XmlOptions().setErrorListener(errors[i]);
+            if (i > 0)
+                options.setCompileParallelism(4);
+            try {
+                XmlBeans.compileXsd(new XmlObject[]{XmlObject.Factory.parse(xsd.toString())},
+                    XmlBeans.getBuiltinTypeSystem(), options);
+                fail("The schema should not compile");
+            } catch (XmlException e) {
+                // expected
+            }
+        }
+
+        // the same errors are found, in the same order
+        assertTrue("Too few errors: " + errors[0], errors[0].size() > 20);
+        Assert.assertEquals(errors[0].toString(), errors[1].toString());
+
+        // and the default values of a valid schema are the same
+        String valid = xsd.toString().replaceAll("default='[xy]'", "default='1'")
+            .replace("<xs:element name='b' type='xs:string'/>", "<xs:element name='a' type='xs:int'/>");
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[]{XmlObject.Factory.parse(valid)},
+            XmlBeans.getBuiltinTypeSystem(), new XmlOptions().setCompileParallelism(4));
+        SchemaType t = sts.findType(QNameHelper.forLNS("t12", "urn:checks"));
+        Assert.assertEquals("12", t.getElementProperties()[0].getDefaultValue().getStringValue());
+        Assert.assertEquals("12", t.getAttributeProperties()[0].getDefaultValue().getStringValue());
+    }
+
+    private static void listFiles(File dir, List<File> files) {
+        File[] list = dir.listFiles();
+        for (int i = 0; i < list.length; i++) {
+            if (list[i].isDirectory())
+                listFiles(list[i], files);
+            else
+                files.add(list[i]);
+        }
+    }
+
+    private static byte[] readBytes(File f) throws IOException {
+        byte[] bytes = new byte[(int) f.length()];
+        DataInputStream in = new DataInputStream(new FileInputStream(f));
+        try {
+            in.readFully(bytes);
+        } finally {
+            in.close();
+        }
+        return bytes;
+    }
+
     @Test
     public void testIncrementalCompilation() throws Throwable {
         File[] files = new File[]{
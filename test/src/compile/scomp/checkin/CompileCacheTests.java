@@ -0,0 +1,187 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package compile.scomp.checkin;
+
+import common.Common;
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the cache of type systems which XmlOptions.setCompileCacheDirectory
+ * turns on.
+ */
+public class CompileCacheTests {
+    private static final String SCHEMA =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema' " +
+        "           targetNamespace='urn:cache' xmlns:c='urn:cache' elementFormDefault='qualified'>" +
+        "  <xs:element name='order'>" +
+        "    <xs:complexType><xs:sequence>" +
+        "      <xs:element name='item' type='c:item' maxOccurs='unbounded'/>" +
+        "    </xs:sequence></xs:complexType>" +
+        "  </xs:element>" +
+        "  <xs:complexType name='item'>" +
+        "    <xs:attribute name='qty' type='xs:positiveInteger' use='required'/>" +
+        "  </xs:complexType>" +
+        "</xs:schema>";
+
+    private static final String ORDER =
+        "<order xmlns='urn:cache'><item qty='2'/><item qty='3'/></order>";
+
+    private File _dir;
+
+    @Before
+    public void setUp() {
+        _dir = Common.xbeanOutput("compile/scomp/cache");
+        File[] files = _dir.listFiles();
+        if (files != null) {
+            for (int i = 0; i < files.length; i++)
+                files[i].delete();
+        }
+    }
+
+    @Test
+    public void testHit() throws Exception {
+        XmlOptions options = new XmlOptions().setCompileCacheDirectory(_dir);
+
+        SchemaTypeSystem compiled = compile(SCHEMA, options);
+        assertEquals(1, entries().length);
+
+        // the same schema parsed again is loaded
+        SchemaTypeSystem loaded = compile(SCHEMA, options);
+        assertEquals(compiled.getName(), loaded.getName());
+        assertTrue(compiled != loaded);
+        assertEquals(1, entries().length);
+
+        SchemaType item = loaded.findType(new QName("urn:cache", "item"));
+        assertNotNull(item);
+        assertNotNull(item.getAttributeProperty(new QName("", "qty")));
+
+        SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(
+            new SchemaTypeLoader[] { loaded, XmlBeans.getBuiltinTypeSystem() });
+        XmlObject order = loader.parse(ORDER, null, null);
+        assertTrue(order.validate());
+        assertFalse(loader.parse(ORDER.replace("'3'", "'0'"), null, null).validate());
+
+        // another schema or other options are compiled
+        compile(SCHEMA.replace("positiveInteger", "int"), options);
+        assertEquals(2, entries().length);
+        compile(SCHEMA, new XmlOptions(options).setCompileNoAnnotations());
+        assertEquals(3, entries().length);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        XmlOptions options = new XmlOptions().setCompileCacheDirectory(_dir);
+        compile(SCHEMA, options);
+        File first = entries()[0];
+        first.setLastModified(System.currentTimeMillis() - 60000);
+
+        // the entry used least recently goes first
+        options.setCompileCacheMaxSize(first.length() + 1);
+        compile(SCHEMA.replace("positiveInteger", "int"), options);
+        File[] files = entries();
+        assertEquals(1, files.length);
+        assertFalse(first.exists());
+    }
+
+    @Test
+    public void testDamagedEntry() throws Exception {
+        XmlOptions options = new XmlOptions().setCompileCacheDirectory(_dir);
+        compile(SCHEMA, options);
+        File entry = entries()[0];
+
+        OutputStream out = new FileOutputStream(entry);
+        try {
+            out.write("not a zip".getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+
+        SchemaTypeSystem sts = compile(SCHEMA, options);
+        assertNotNull(sts.findType(new QName("urn:cache", "item")));
+        assertTrue(entry.length() > 100);
+        assertNotNull(compile(SCHEMA, options).findType(new QName("urn:cache", "item")));
+    }
+
+    @Test
+    public void testIncludeNotCached() throws Exception {
+        File included = Common.xbeanOutput("compile/scomp/cacheinclude/item.xsd");
+        String item =
+            "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema' targetNamespace='urn:cache'>" +
+            "  <xs:complexType name='item'>" +
+            "    <xs:attribute name='qty' type='xs:positiveInteger' use='required'/>" +
+            "  </xs:complexType>" +
+            "</xs:schema>";
+        String schema =
+            "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema' targetNamespace='urn:cache'>" +
+            "  <xs:include schemaLocation='" + included.toURI() + "'/>" +
+            "</xs:schema>";
+        XmlOptions options = new XmlOptions().setCompileCacheDirectory(_dir);
+
+        write(included, item);
+        SchemaType type = compile(schema, options).findType(new QName("urn:cache", "item"));
+        assertNotNull(type.getAttributeProperty(new QName("", "qty")));
+        assertEquals(0, entries().length);
+
+        // the included schema is read again
+        write(included, item.replace("qty", "count"));
+        type = compile(schema, options).findType(new QName("urn:cache", "item"));
+        assertNotNull(type.getAttributeProperty(new QName("", "count")));
+        assertEquals(0, entries().length);
+    }
+
+    private static void write(File file, String text) throws Exception {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static SchemaTypeSystem compile(String schema, XmlOptions options) throws Exception {
+        XmlObject xsd = XmlObject.Factory.parse(schema);
+        return XmlBeans.compileXsd(new XmlObject[] { xsd }, XmlBeans.getBuiltinTypeSystem(), options);
+    }
+
+    private File[] entries() {
+        File[] files = _dir.listFiles();
+        int n = 0;
+        for (int i = 0; i < files.length; i++) {
+            if (files[i].getName().endsWith(".zip"))
+                files[n++] = files[i];
+        }
+        File[] result = new File[n];
+        System.arraycopy(files, 0, result, 0, n);
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package misc.checkin;
+
+import org.apache.xmlbeans.impl.regex.Match;
+import org.apache.xmlbeans.impl.regex.RegularExpression;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that XML Schema patterns matched with a DFA give the same answers
+ * as the backtracking interpreter, which is used whenever a Match is
+ * asked for.
+ */
+public class RegexDFATest {
+
+    private static final String[] PATTERNS = {
+        "\\d{3}-\\d{2}-\\d{4}",
+        "[A-Z]{2}\\d{5}",
+        "\\d{4}-\\d{2}-\\d{2}(Z|[+\\-]\\d{2}:\\d{2})?",
+        "([\\.a-zA-Z0-9_-])+@([a-zA-Z0-9_-])+(([a-zA-Z0-9_-])*\\.([a-zA-Z0-9_-])+)+",
+        "\\p{Lu}\\p{Ll}*( \\p{Lu}\\p{Ll}*)*",
+        "[^a-c]*a{2,4}b?",
+        "(ab|a)(bc|c)*",
+        "(ab*)*b",
+        "a{0,0}b{1}c{2,}",
+        ".*x.",
+        "[a-z-[aeiou]]+",
+        "\\i\\c*",
+        "",
+        "(1|2|3)?[\\s]?",
+        "\\P{Nd}+",
+        "[\\-+]?\\d+(\\.\\d*)?",
+    };
+
+    private static final String ALPHABET = "abcxzAZ019-+.:@_ \n\u00e9\u00c9";
+
+    private static final String[] SURROGATES = {
+        "\ud800\udc00", "a\ud800", "\udc00", "ab\ud800\udc00c",
+    };
+
+    @Test
+    public void testSameAsInterpreter() throws Exception {
+        Random random = new Random(42);
+
+        for (int i = 0; i < PATTERNS.length; i++) {
+            RegularExpression regex = new RegularExpression(PATTERNS[i], "X");
+
+            for (int n = 0; n < 2000; n++) {
+                StringBuffer sb = new StringBuffer();
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++)
+                    sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                check(regex, PATTERNS[i], sb.toString());
+            }
+
+            for (int n = 0; n < SURROGATES.length; n++)
+                check(regex, PATTERNS[i], SURROGATES[n]);
+        }
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        RegularExpression date = new RegularExpression("\\d{4}-\\d{2}-\\d{2}", "X");
+        assertTrue(date.matches("2004-02-29"));
+        assertFalse(date.matches("2004-2-29"));
+        assertFalse(date.matches("x2004-02-29"));
+        assertTrue(date.matches("x2004-02-29".toCharArray(), 1, 11, null));
+
+        RegularExpression supplementary = new RegularExpression("a.b", "X");
+        assertTrue(supplementary.matches("a\ud800\udc00b"));
+        assertFalse(supplementary.matches("a\nb"));
+
+        // Exhausts the interpreter's stack, which backtracks over every
+        // way of splitting the a's
+        RegularExpression nested = new RegularExpression("(a*)*b", "X");
+        StringBuffer sb = new StringBuffer();
+        for (int i = 0; i < 10000; i++)
+            sb.append('a');
+        assertTrue(nested.matches(sb + "b"));
+        assertFalse(nested.matches(sb + "c"));
+    }
+
+    private static void check(RegularExpression regex, String pattern, String s) {
+        boolean interpreted = regex.matches(s, new Match());
+        assertEquals(pattern + " on " + s, interpreted, regex.matches(s));
+        assertEquals(pattern + " on " + s, interpreted, regex.matches(s.toCharArray()));
+    }
+}
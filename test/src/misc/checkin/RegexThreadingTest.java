@@ -0,0 +1,126 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package misc.checkin;
+
+import org.apache.xmlbeans.impl.regex.Match;
+import org.apache.xmlbeans.impl.regex.RegularExpression;
+import org.junit.Test;
+
+import java.text.StringCharacterIterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Matches shared RegularExpression instances, as pattern facets do, from
+ * several threads at once.
+ */
+public class RegexThreadingTest {
+
+    public static final int THREAD_COUNT = 8;
+    public static final int ITERATION_COUNT = 2000;
+
+    private static final String[] PATTERNS = {
+        "\\d{3}-\\d{2}-\\d{4}",
+        "[A-Z]{2}\\d{5}",
+        "([\\.a-zA-Z0-9_-])+@([a-zA-Z0-9_-])+(([a-zA-Z0-9_-])*\\.([a-zA-Z0-9_-])+)+",
+        "\\p{Lu}\\p{Ll}*( \\p{Lu}\\p{Ll}*)*",
+        "abc",
+    };
+
+    private static final String[] INPUTS = {
+        "123-45-6789", "123-456-789", "AB12345", "ab12345", "AB1234",
+        "john.doe@example.com", "john@", "Hello World", "hello world",
+        "abc", "abcd", "",
+    };
+
+    public class MatchingThread extends Thread {
+        private final RegularExpression[] _regexes;
+        private final boolean[][] _expected;
+        private Throwable _throwable;
+
+        MatchingThread(RegularExpression[] regexes, boolean[][] expected) {
+            _regexes = regexes;
+            _expected = expected;
+        }
+
+        public Throwable getException() {
+            return _throwable;
+        }
+
+        public void run() {
+            try {
+                Match match = new Match();
+                for (int n = 0; n < ITERATION_COUNT; n++) {
+                    for (int i = 0; i < _regexes.length; i++) {
+                        for (int j = 0; j < INPUTS.length; j++) {
+                            String input = INPUTS[j];
+                            boolean expected = _expected[i][j];
+                            switch ((n + j) % 3) {
+                                case 0:
+                                    assertEquals(input, expected, _regexes[i].matches(input));
+                                    break;
+                                case 1:
+                                    assertEquals(input, expected, _regexes[i].matches(input.toCharArray(), match));
+                                    if (expected)
+                                        assertEquals(input, input.length(), match.getEnd(0));
+                                    break;
+                                default:
+                                    assertEquals(input, expected,
+                                        _regexes[i].matches(new StringCharacterIterator(input)));
+                            }
+                        }
+                    }
+                }
+            }
+            catch (Throwable t) {
+                _throwable = t;
+            }
+        }
+    }
+
+    @Test
+    public void testSharedPatterns() throws Throwable {
+        boolean[][] expected = new boolean[PATTERNS.length][INPUTS.length];
+        for (int i = 0; i < PATTERNS.length; i++) {
+            RegularExpression regex = new RegularExpression(PATTERNS[i], "X");
+            for (int j = 0; j < INPUTS.length; j++)
+                expected[i][j] = regex.matches(INPUTS[j]);
+        }
+
+        // Fresh instances, so that the threads also race to prepare them
+        RegularExpression[] regexes = new RegularExpression[PATTERNS.length];
+        for (int i = 0; i < PATTERNS.length; i++)
+            regexes[i] = new RegularExpression(PATTERNS[i], "X");
+
+        MatchingThread[] threads = new MatchingThread[THREAD_COUNT];
+        for (int i = 0; i < threads.length; i++)
+            threads[i] = new MatchingThread(regexes, expected);
+
+        for (int i = 0; i < threads.length; i++)
+            threads[i].start();
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            if (threads[i].getException() != null)
+                throw threads[i].getException();
+        }
+
+        assertTrue(expected[0][0]);
+        assertFalse(expected[0][1]);
+    }
+}
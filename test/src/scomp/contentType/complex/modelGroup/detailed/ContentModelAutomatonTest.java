@@ -0,0 +1,199 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package scomp.contentType.complex.modelGroup.detailed;
+
+import org.apache.xmlbeans.SchemaType;
+import org.apache.xmlbeans.SchemaTypeElementSequencer;
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlError;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.schema.SchemaTypeImpl;
+import org.apache.xmlbeans.impl.schema.SchemaTypeVisitorImpl;
+import org.apache.xmlbeans.impl.validator.Validator;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that validating element order with compiled content model
+ * automata gives the same results as interpreting the content models.
+ */
+public class ContentModelAutomatonTest {
+    private static final String NS = "http://xbean/scomp/contentType/Automaton";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "'" +
+        " elementFormDefault='qualified'>" +
+        " <xs:element name='head' type='xs:string' abstract='false'/>" +
+        " <xs:element name='member' type='xs:string' substitutionGroup='t:head'/>" +
+        " <xs:complexType name='nestedT'><xs:sequence>" +
+        "  <xs:element name='a' type='xs:string'/>" +
+        "  <xs:choice minOccurs='0' maxOccurs='unbounded'>" +
+        "   <xs:element name='b' type='xs:string'/>" +
+        "   <xs:sequence><xs:element name='c' type='xs:string'/>" +
+        "    <xs:element name='d' type='xs:string' minOccurs='0'/></xs:sequence>" +
+        "  </xs:choice>" +
+        "  <xs:element name='e' type='xs:string' minOccurs='2' maxOccurs='3'/>" +
+        "  <xs:element ref='t:head' minOccurs='0'/>" +
+        "  <xs:any namespace='##other' processContents='skip' minOccurs='0'/>" +
+        " </xs:sequence></xs:complexType>" +
+        " <xs:complexType name='allT'><xs:all>" +
+        "  <xs:element name='x' type='xs:string'/>" +
+        "  <xs:element name='y' type='xs:string'/>" +
+        " </xs:all></xs:complexType>" +
+        " <xs:element name='nested' type='t:nestedT'/>" +
+        " <xs:element name='all' type='t:allT'/>" +
+        "</xs:schema>";
+
+    private static final String[] NESTED = {
+        "<a/><e/><e/>",
+        "<a/><b/><c/><d/><c/><b/><e/><e/><e/>",
+        "<a/><e/><e/><head/>",
+        "<a/><e/><e/><member/><o:x xmlns:o='urn:other'/>",
+        "<a/><e/><e/><o:x xmlns:o='urn:other'/>",
+        "<a/><e/>",
+        "<a/><e/><e/><e/><e/>",
+        "<b/><a/><e/><e/>",
+        "<a/><d/><e/><e/>",
+        "<a/><e/><e/><head/><member/>",
+        "<a/><e/><e/><t:a/>",
+        "",
+        // several invalid children, one after the other
+        "<a/><x/><x/><e/><e/>",
+        "<a/><c/><x/><d/><d/><e/><e/>",
+        "<b/><b/><a/><e/><e/>",
+        "<a/><e/><e/><head/><head/><head/>",
+    };
+
+    private static final boolean[] NESTED_VALID = {
+        true, true, true, true, true,
+        false, false, false, false, false, false, false,
+        false, false, false, false,
+    };
+
+    private static final int FIRST_SEVERAL_ERRORS = 12;
+
+    private static SchemaTypeLoader loader;
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        XmlObject xsd = XmlObject.Factory.parse(XSD);
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { xsd },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    @Test
+    public void testCompiled() {
+        SchemaType nested = loader.findType(new QName(NS, "nestedT"));
+        SchemaType all = loader.findType(new QName(NS, "allT"));
+
+        assertNotNull(((SchemaTypeImpl) nested).getContentModelAutomaton());
+        assertNull(((SchemaTypeImpl) all).getContentModelAutomaton());
+    }
+
+    @Test
+    public void testSameValidation() throws Exception {
+        for (int i = 0; i < NESTED.length; i++) {
+            String xml = "<t:nested xmlns:t='" + NS + "' xmlns='" + NS + "'>" +
+                NESTED[i] + "</t:nested>";
+            XmlObject doc = loader.parse(xml, null, null);
+
+            List compiled = new ArrayList();
+            boolean compiledValid = doc.validate(new XmlOptions().setErrorListener(compiled));
+
+            List interpreted = new ArrayList();
+            XmlOptions options = new XmlOptions().setErrorListener(interpreted);
+            options.put(Validator.INTERPRET_CONTENT_MODELS);
+            boolean interpretedValid = doc.validate(options);
+
+            assertEquals(xml, NESTED_VALID[i], compiledValid);
+            assertEquals(xml, interpretedValid, compiledValid);
+            assertEquals(xml, messages(interpreted), messages(compiled));
+            if (i >= FIRST_SEVERAL_ERRORS)
+                assertTrue(xml, compiled.size() > 1);
+        }
+    }
+
+    @Test
+    public void testSameSteps() {
+        SchemaTypeImpl nested = (SchemaTypeImpl) loader.findType(new QName(NS, "nestedT"));
+        String[] names = { "a", "c", "d", "e", "x", "head", null };
+
+        // every sequence of five names, some probed, some visited, is
+        // taken the same way by the automaton and by the interpreter,
+        // including after the names it does not allow and after the end
+        int sequences = 1;
+        for (int i = 0; i < 5; i++)
+            sequences *= names.length * 2;
+
+        for (int n = 0; n < sequences; n++) {
+            SchemaTypeVisitorImpl interpreter =
+                new SchemaTypeVisitorImpl(nested.getContentModel());
+            SchemaTypeVisitorImpl automaton =
+                new SchemaTypeVisitorImpl(nested.getContentModel(), nested.getContentModelAutomaton());
+            String steps = "";
+
+            for (int m = n, i = 0; i < 5; i++, m /= names.length * 2) {
+                String name = names[m % names.length];
+                boolean probe = (m / names.length) % 2 == 1;
+                QName qname = name == null ? null : new QName(NS, name);
+                steps += (probe ? " probe " : " visit ") + name;
+
+                boolean expected = probe ? interpreter.testValid(qname) : interpreter.visit(qname);
+                boolean actual = probe ? automaton.testValid(qname) : automaton.visit(qname);
+
+                assertEquals(steps, expected, actual);
+                assertTrue(steps, interpreter.currentParticle() == automaton.currentParticle());
+            }
+        }
+    }
+
+    @Test
+    public void testSequencer() {
+        SchemaTypeElementSequencer seq =
+            loader.findType(new QName(NS, "nestedT")).getElementSequencer();
+
+        assertTrue(seq.next(new QName(NS, "a")));
+        assertTrue(seq.peek(new QName(NS, "c")));
+        assertFalse(seq.peek(new QName(NS, "d")));
+        assertTrue(seq.next(new QName(NS, "c")));
+        assertTrue(seq.next(new QName(NS, "d")));
+        assertFalse(seq.next(new QName(NS, "d")));
+        assertTrue(seq.next(new QName(NS, "e")));
+    }
+
+    private static List messages(List errors) {
+        List result = new ArrayList();
+        for (int i = 0; i < errors.size(); i++)
+            result.add(((XmlError) errors.get(i)).getMessage());
+        return result;
+    }
+}
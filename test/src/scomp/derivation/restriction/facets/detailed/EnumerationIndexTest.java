@@ -0,0 +1,123 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package scomp.derivation.restriction.facets.detailed;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.SimpleValue;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.values.XmlValueOutOfRangeException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the enumeration facets of the simple types, which are looked up
+ * in a hash index, both when validating and when setting values.
+ */
+public class EnumerationIndexTest {
+    private static final String NS = "http://xbean/scomp/facets/EnumerationIndex";
+    private static final int CODES = 5000;
+
+    private static SchemaTypeLoader loader;
+
+    private static String enumeration(String name, String base, String[] values) {
+        StringBuffer sb = new StringBuffer();
+        sb.append("<xs:simpleType name='").append(name).append("'>");
+        sb.append("<xs:restriction base='").append(base).append("'>");
+        for (int i = 0; i < values.length; i++)
+            sb.append("<xs:enumeration value='").append(values[i]).append("'/>");
+        sb.append("</xs:restriction></xs:simpleType>");
+        sb.append("<xs:element name='").append(name).append("' type='t:").append(name).append("'/>");
+        return sb.toString();
+    }
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        String[] codes = new String[CODES];
+        for (int i = 0; i < CODES; i++)
+            codes[i] = "C" + i;
+
+        String xsd = "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+            " xmlns:t='" + NS + "' targetNamespace='" + NS + "'>" +
+            enumeration("code", "xs:string", codes) +
+            enumeration("uri", "xs:anyURI", new String[] { "http://a/", "urn:b" }) +
+            enumeration("dec", "xs:decimal", new String[] { "1.5", "-2.25" }) +
+            enumeration("int", "xs:int", new String[] { "7", "-3" }) +
+            enumeration("long", "xs:long", new String[] { "7", "9000000000" }) +
+            enumeration("integer", "xs:integer", new String[] { "7", "90000000000000000000" }) +
+            enumeration("double", "xs:double", new String[] { "1.5", "NaN", "0" }) +
+            enumeration("float", "xs:float", new String[] { "1.5", "INF" }) +
+            enumeration("hex", "xs:hexBinary", new String[] { "0FB7", "00" }) +
+            enumeration("b64", "xs:base64Binary", new String[] { "AQID" }) +
+            enumeration("qname", "xs:QName", new String[] { "t:a" }) +
+            "</xs:schema>";
+
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(xsd) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    private static boolean valid(String element, String value) throws Exception {
+        String xml = "<t:" + element + " xmlns:t='" + NS + "'>" + value + "</t:" + element + ">";
+        return loader.parse(xml, null, null).validate();
+    }
+
+    private static void check(String element, String[] validValues, String[] invalidValues)
+        throws Exception {
+        for (int i = 0; i < validValues.length; i++)
+            assertEquals(element + " " + validValues[i], true, valid(element, validValues[i]));
+        for (int i = 0; i < invalidValues.length; i++)
+            assertEquals(element + " " + invalidValues[i], false, valid(element, invalidValues[i]));
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        check("code", new String[] { "C0", "C4999", "C2500" }, new String[] { "C5000", "c1", "" });
+        check("uri", new String[] { "http://a/", "urn:b" }, new String[] { "http://a" });
+        check("dec", new String[] { "1.5", "-2.25" }, new String[] { "1.6", "2.25" });
+        check("int", new String[] { "7", "-3" }, new String[] { "3" });
+        check("long", new String[] { "7", "9000000000" }, new String[] { "9000000001" });
+        check("integer", new String[] { "7", "90000000000000000000" }, new String[] { "8" });
+        check("double", new String[] { "1.5", "NaN", "0", "0.0" }, new String[] { "-0", "INF" });
+        check("float", new String[] { "1.5", "INF" }, new String[] { "-INF", "NaN" });
+        check("hex", new String[] { "0FB7", "0fb7", "00" }, new String[] { "0FB8", "" });
+        check("b64", new String[] { "AQID" }, new String[] { "AQIE" });
+        check("qname", new String[] { "t:a" }, new String[] { "t:b" });
+    }
+
+    @Test
+    public void testSet() throws Exception {
+        XmlOptions options = new XmlOptions().setValidateOnSet();
+        XmlObject code = loader.newInstance(loader.findType(new QName(NS, "code")), options);
+
+        ((SimpleValue) code).setStringValue("C1234");
+        assertEquals("C1234", ((SimpleValue) code).getStringValue());
+
+        try {
+            ((SimpleValue) code).setStringValue("C12345");
+            fail("expected XmlValueOutOfRangeException");
+        } catch (XmlValueOutOfRangeException e) {
+        }
+    }
+}
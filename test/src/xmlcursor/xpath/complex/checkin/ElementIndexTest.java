@@ -0,0 +1,166 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlcursor.xpath.complex.checkin;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that descendant lookups answered from the element index agree with
+ * the ones answered by walking the document, also after modifications.
+ */
+public class ElementIndexTest {
+    private static final String NS = "http://xbean.test/po";
+
+    private static final String NS_DECL =
+        "declare namespace po='" + NS + "'; ";
+
+    private static final String XML =
+        "<po:order xmlns:po='" + NS + "'>" +
+        "<po:item id='a'><po:item id='b'/></po:item>" +
+        "<po:group><po:item id='c'/><po:other/><po:item id='d'/></po:group>" +
+        "<po:item id='e'/>" +
+        "</po:order>";
+
+    private static final String[] PATHS = {
+        "$this//po:item",
+        ".//po:item",
+        "$this//po:other",
+        "$this//po:missing",
+    };
+
+    @Test
+    public void testLoadIndexSameSelection() throws Exception {
+        XmlObject plain = XmlObject.Factory.parse(XML);
+        XmlObject indexed = XmlObject.Factory.parse(XML,
+            new XmlOptions().setLoadElementIndex());
+
+        for (int i = 0; i < PATHS.length; i++) {
+            String path = NS_DECL + PATHS[i];
+            assertEquals(path, select(plain, path, null), select(indexed, path, null));
+        }
+    }
+
+    @Test
+    public void testIndexFromInnerContext() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(XML,
+            new XmlOptions().setLoadElementIndex());
+
+        XmlObject[] groups = doc.selectPath(NS_DECL + "$this//po:group");
+        assertEquals(1, groups.length);
+
+        XmlObject[] items = groups[0].selectPath(NS_DECL + ".//po:item");
+        assertEquals(2, items.length);
+        assertEquals("c", id(items[0]));
+        assertEquals("d", id(items[1]));
+
+        XmlObject[] outer = doc.selectPath(NS_DECL + "$this/po:order/po:item");
+        items = outer[0].selectPath(NS_DECL + ".//po:item");
+        assertEquals(1, items.length);
+        assertEquals("b", id(items[0]));
+    }
+
+    @Test
+    public void testIndexFromEveryContext() throws Exception {
+        // Comments end some of the contexts, so their last descendants are
+        // not elements
+        String xml =
+            "<po:order xmlns:po='" + NS + "'>" +
+            "<po:item id='a'><po:item id='b'/><!--b--></po:item>" +
+            "<po:group><po:item id='c'><po:item id='d'/></po:item><!--c--></po:group>" +
+            "<po:item id='e'/><!--e-->" +
+            "</po:order>";
+        XmlObject plain = XmlObject.Factory.parse(xml);
+        XmlObject indexed = XmlObject.Factory.parse(xml,
+            new XmlOptions().setLoadElementIndex());
+        String path = NS_DECL + "$this//*";
+
+        XmlObject[] plainContexts = plain.selectPath(path);
+        XmlObject[] indexedContexts = indexed.selectPath(path);
+        assertEquals(7, indexedContexts.length);
+
+        for (int i = 0; i < indexedContexts.length; i++) {
+            String items = NS_DECL + ".//po:item";
+            assertEquals(String.valueOf(i), select(plainContexts[i], items, null),
+                select(indexedContexts[i], items, null));
+        }
+    }
+
+    @Test
+    public void testIndexFollowsModification() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(XML);
+        XmlOptions useIndex = new XmlOptions().setXPathUseElementIndex();
+        String path = NS_DECL + "$this//po:item";
+
+        assertEquals(5, doc.selectPath(path, useIndex).length);
+
+        XmlCursor c = doc.newCursor();
+        c.toFirstChild();
+        c.toFirstChild();
+        c.insertElement("item", NS);
+        c.dispose();
+
+        List expected = select(doc, path, null);
+        assertEquals(6, expected.size());
+        assertEquals(expected, select(doc, path, useIndex));
+    }
+
+    @Test
+    public void testGetElementsByTagNameNS() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(XML,
+            new XmlOptions().setLoadElementIndex());
+        Document dom = (Document) doc.getDomNode();
+
+        NodeList items = dom.getElementsByTagNameNS(NS, "item");
+        assertEquals(5, items.getLength());
+        assertEquals("a", ((org.w3c.dom.Element) items.item(0)).getAttribute("id"));
+        assertEquals("e", ((org.w3c.dom.Element) items.item(4)).getAttribute("id"));
+
+        dom.getDocumentElement().appendChild(dom.createElementNS(NS, "po:item"));
+        assertEquals(6, items.getLength());
+        assertEquals(6, dom.getElementsByTagNameNS("*", "item").getLength());
+    }
+
+    private static String id(XmlObject o) {
+        XmlCursor c = o.newCursor();
+        try {
+            return c.getAttributeText(new javax.xml.namespace.QName("id"));
+        } finally {
+            c.dispose();
+        }
+    }
+
+    private static List select(XmlObject doc, String path, XmlOptions options) {
+        XmlCursor c = doc.newCursor();
+        List result = new ArrayList();
+        try {
+            c.selectPath(path, options);
+            while (c.toNextSelection())
+                result.add(c.xmlText());
+        } finally {
+            c.dispose();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlcursor.xpath.complex.checkin;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that selections made with XmlOptions.setXPathParallelism are the
+ * same, and in the same order, as the ones made on a single thread.
+ */
+public class ParallelSelectPathTest {
+    private static final String NS_DECL =
+        "declare namespace po='http://xbean.test/po'; ";
+
+    private static final String[] PATHS = {
+        "$this/po:orders/po:order",
+        "$this/po:orders/po:order/po:item",
+        "$this//po:item",
+        "$this//po:item[@id='i3']",
+        "$this//po:order[@kind='b']//po:note",
+        "$this//po:order/@kind",
+        "$this/po:orders//@id",
+        "$this//po:order[2]",
+        "$this//po:note/text()",
+        "$this//*",
+        "$this",
+    };
+
+    private static String document(int orders) {
+        StringBuffer sb = new StringBuffer();
+        sb.append("<po:orders xmlns:po='http://xbean.test/po'>");
+        for (int i = 0; i < orders; i++) {
+            sb.append("<po:order id='o" + i + "' kind='" + (i % 3 == 0 ? "a" : "b") + "'>");
+            for (int j = 0; j < 5; j++) {
+                sb.append("<po:item id='i" + j + "'>");
+                if (j % 2 == 0)
+                    sb.append("<po:note>n" + i + "." + j + "</po:note>");
+                sb.append("</po:item>");
+            }
+            sb.append("<!-- c --></po:order>");
+        }
+        sb.append("</po:orders>");
+        return sb.toString();
+    }
+
+    @Test
+    public void testSameSelection() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(document(200));
+
+        XmlOptions serial = new XmlOptions();
+        XmlOptions parallel = new XmlOptions().setXPathParallelism(4);
+
+        for (int i = 0; i < PATHS.length; i++) {
+            String path = NS_DECL + PATHS[i];
+            assertEquals(path, select(doc, path, serial), select(doc, path, parallel));
+        }
+    }
+
+    @Test
+    public void testFromElementContext() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(document(50));
+        XmlObject orders = doc.selectPath(NS_DECL + "$this/po:orders")[0];
+
+        String path = NS_DECL + ".//po:note";
+        XmlObject[] serial = orders.selectPath(path);
+        XmlObject[] parallel = orders.selectPath(path, new XmlOptions().setXPathParallelism(3));
+
+        assertEquals(serial.length, parallel.length);
+        for (int i = 0; i < serial.length; i++)
+            assertEquals(serial[i].xmlText(), parallel[i].xmlText());
+    }
+
+    @Test
+    public void testFewChildren() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(document(1));
+        String path = NS_DECL + "$this//po:item";
+
+        assertEquals(select(doc, path, null),
+            select(doc, path, new XmlOptions().setXPathParallelism(8)));
+    }
+
+    private static List select(XmlObject doc, String path, XmlOptions options) {
+        XmlCursor c = doc.newCursor();
+        List result = new ArrayList();
+        try {
+            c.selectPath(path, options);
+            while (c.toNextSelection()) {
+                if (c.isText())
+                    result.add("text: " + c.getChars());
+                else
+                    result.add(c.xmlText());
+            }
+        } finally {
+            c.dispose();
+        }
+        return result;
+    }
+}
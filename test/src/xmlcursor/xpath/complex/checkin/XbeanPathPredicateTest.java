@@ -0,0 +1,124 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlcursor.xpath.complex.checkin;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the predicates, positional steps and text() handled by the
+ * builtin path engine select the same nodes as the delegate (Saxon) engine.
+ */
+public class XbeanPathPredicateTest {
+    private static final String NS_DECL =
+        "declare namespace po='http://xbean.test/po'; ";
+
+    private static final String XML =
+        "<po:order xmlns:po='http://xbean.test/po' id='o1'>" +
+        "<po:item id='a' kind='x'>first<po:note>n1</po:note>tail</po:item>" +
+        "<!-- comment --><po:item id='b'>second</po:item>" +
+        "<po:other id='a'>other</po:other>" +
+        "<po:item id='c' kind='x'><po:item id='a'>nested</po:item>" +
+        "<po:item id='d'/><?pi value?>third</po:item>" +
+        "<po:group><po:item id='a'>deep1</po:item><po:item id='e'>deep2</po:item>" +
+        "<po:item id='a'>deep3</po:item></po:group>" +
+        "</po:order>";
+
+    private static final String[] PATHS = {
+        "$this/po:order/po:item[@id='b']",
+        "$this/po:order/po:item[@id = \"a\"]",
+        "$this//po:item[@id='a']",
+        "$this//po:item[@kind='x'][@id='c']",
+        "$this//po:item[@id='a']/po:note",
+        "$this/po:order/po:item[2]",
+        "$this/po:order/*[2]",
+        "$this//po:item[1]",
+        "$this//po:item[2]",
+        "$this//po:item[3][@id='a']",
+        "$this//po:group/po:item[3]",
+        "$this/po:order/po:item[5]",
+        "$this/po:order/po:item/text()",
+        "$this//po:item/text()",
+        "$this//po:item[@id='a']/text()",
+        "$this//po:note/text()",
+        "$this/po:order/po:item[1]/text()",
+        "$this//po:item[@id='a']/@id",
+        "$this//po:item[1]//po:item[@id='a']",
+    };
+
+    @Test
+    public void testSameSelectionAsDelegate() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(XML);
+
+        XmlOptions xbean = new XmlOptions();
+        xbean.put("use xbean for xpath");
+
+        XmlOptions delegate = new XmlOptions();
+        delegate.put("use delegate for xpath");
+
+        for (int i = 0; i < PATHS.length; i++) {
+            String path = NS_DECL + PATHS[i];
+            assertEquals(path, select(doc, path, delegate), select(doc, path, xbean));
+        }
+    }
+
+    @Test
+    public void testXmlObjectSelectPath() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(XML);
+
+        XmlOptions xbean = new XmlOptions();
+        xbean.put("use xbean for xpath");
+
+        XmlObject[] items = doc.selectPath(NS_DECL + "$this//po:item[@id='a']", xbean);
+        assertEquals(4, items.length);
+
+        items = doc.selectPath(NS_DECL + "$this//po:group/po:item[2]", xbean);
+        assertEquals(1, items.length);
+        assertEquals("deep2", textValue(items[0]));
+    }
+
+    private static String textValue(XmlObject o) {
+        XmlCursor c = o.newCursor();
+        try {
+            return c.getTextValue();
+        } finally {
+            c.dispose();
+        }
+    }
+
+    private static List select(XmlObject doc, String path, XmlOptions options) {
+        XmlCursor c = doc.newCursor();
+        List result = new ArrayList();
+        try {
+            c.selectPath(path, options);
+            while (c.toNextSelection()) {
+                if (c.isText())
+                    result.add("text: " + c.getChars());
+                else
+                    result.add(c.xmlText());
+            }
+        } finally {
+            c.dispose();
+        }
+        return result;
+    }
+}
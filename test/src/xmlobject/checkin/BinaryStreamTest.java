@@ -0,0 +1,230 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBase64Binary;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlHexBinary;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.util.Base64;
+import org.apache.xmlbeans.impl.util.HexBin;
+import org.apache.xmlbeans.impl.values.XmlValueOutOfRangeException;
+import org.junit.Test;
+import org.openuri.xstypes.test.CustomerDocument;
+import org.openuri.xstypes.test.Person;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks reading and setting base64Binary and hexBinary values as streams.
+ */
+public class BinaryStreamTest {
+    private static final String NS = "http://xbean/xmlobject/BinaryStream";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='short'><xs:restriction base='xs:hexBinary'>" +
+        "  <xs:maxLength value='4'/></xs:restriction></xs:simpleType>" +
+        " <xs:element name='doc'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='b' type='xs:base64Binary' nillable='true'/>" +
+        "  <xs:element name='d' type='xs:base64Binary' default='AQID'/>" +
+        "  <xs:element name='h' type='t:short'/>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    private static byte[] bytes(int n) {
+        byte[] b = new byte[n];
+        new Random(n).nextBytes(b);
+        return b;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[777];
+
+        for (int n; (n = in.read(buf)) >= 0; )
+            out.write(buf, 0, n);
+
+        return out.toByteArray();
+    }
+
+    private static String readAll(java.io.Reader r) throws IOException {
+        StringBuffer sb = new StringBuffer();
+        char[] buf = new char[333];
+
+        for (int n; (n = r.read(buf)) >= 0; )
+            sb.append(buf, 0, n);
+
+        return sb.toString();
+    }
+
+    @Test
+    public void testCodecs() throws Exception {
+        int[] sizes = { 0, 1, 2, 3, 4, 5, 3071, 3072, 3073, 10000 };
+
+        for (int i = 0; i < sizes.length; i++) {
+            byte[] b = bytes(sizes[i]);
+            String base64 = new String(Base64.encode(b));
+            String hex = new String(HexBin.encode(b));
+
+            assertEquals(base64, readAll(Base64.encode(new ByteArrayInputStream(b))));
+            assertEquals(hex, readAll(HexBin.encode(new ByteArrayInputStream(b))));
+
+            assertArrayEquals(b, readAll(Base64.decode(new StringReader(base64))));
+            assertArrayEquals(b, readAll(HexBin.decode(new StringReader(hex))));
+        }
+
+        assertArrayEquals(new byte[] { 1, 2, 3, 4 },
+            readAll(Base64.decode(new StringReader(" AQ\nID\tBA = =\r\n"))));
+        assertArrayEquals(new byte[] { 1, 2, 3, 4 },
+            readAll(HexBin.decode(new StringReader("\n 01020304  "))));
+
+        String[] badBase64 = { "AQI", "AQ=D", "AQ==AQID", "A===", "AR==", "AQ-D" };
+        for (int i = 0; i < badBase64.length; i++) {
+            assertNull(Base64.decode(badBase64[i].getBytes("UTF-8")));
+            try {
+                readAll(Base64.decode(new StringReader(badBase64[i])));
+                fail("expected IOException for " + badBase64[i]);
+            } catch (IOException e) {
+            }
+        }
+
+        String[] badHex = { "010", "01 02", "0g" };
+        for (int i = 0; i < badHex.length; i++) {
+            try {
+                readAll(HexBin.decode(new StringReader(badHex[i])));
+                fail("expected IOException for " + badHex[i]);
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    @Test
+    public void testBuiltin() throws Exception {
+        byte[] b = bytes(50000);
+        XmlBase64Binary x = XmlBase64Binary.Factory.newInstance();
+
+        x.setByteStreamValue(new ByteArrayInputStream(b));
+        assertArrayEquals(b, readAll(x.getByteStreamValue()));
+        assertArrayEquals(b, x.getByteArrayValue());
+        assertEquals(new String(Base64.encode(b)), x.getStringValue());
+
+        // a value already built is streamed as it is
+        assertArrayEquals(b, readAll(x.getByteStreamValue()));
+
+        XmlHexBinary h = XmlHexBinary.Factory.parse("<xml-fragment> 0A0b<!-- c -->0C </xml-fragment>");
+        assertArrayEquals(new byte[] { 10, 11, 12 }, readAll(h.getByteStreamValue()));
+
+        h.setByteStreamValue(new ByteArrayInputStream(new byte[] { -1, 0 }));
+        assertEquals("<xml-fragment>FF00</xml-fragment>", h.xmlText());
+        assertArrayEquals(new byte[] { -1, 0 }, h.getByteArrayValue());
+    }
+
+    @Test
+    public void testElements() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+        String path = "declare namespace t='" + NS + "' .//t:";
+
+        XmlObject doc = loader.parse("<t:doc xmlns:t='" + NS + "'" +
+            " xmlns:xsi='http://www.w3.org/2001/XMLSchema-instance'>" +
+            "<t:b xsi:nil='true'/><t:d/><t:h>0102</t:h></t:doc>", null, null);
+        XmlBase64Binary b = (XmlBase64Binary) doc.selectPath(path + "b")[0];
+        XmlBase64Binary d = (XmlBase64Binary) doc.selectPath(path + "d")[0];
+
+        assertNull(b.getByteStreamValue());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, readAll(d.getByteStreamValue()));
+
+        // setting the stream clears the nil, and later changes do not show
+        byte[] bytes = bytes(40000);
+        b.setByteStreamValue(new ByteArrayInputStream(bytes));
+        assertEquals(false, b.isNil());
+        InputStream in = b.getByteStreamValue();
+        XmlCursor c = b.newCursor();
+        c.setTextValue("AAAA");
+        c.dispose();
+        assertArrayEquals(bytes, readAll(in));
+        assertArrayEquals(new byte[] { 0, 0, 0 }, b.getByteArrayValue());
+        assertEquals(-1, doc.xmlText().indexOf("nil"));
+
+        // bad text shows when it is read
+        c = b.newCursor();
+        c.setTextValue("AQ=D");
+        c.dispose();
+        try {
+            readAll(b.getByteStreamValue());
+            fail("expected IOException");
+        } catch (IOException e) {
+        }
+        try {
+            b.getByteArrayValue();
+            fail("expected XmlValueOutOfRangeException");
+        } catch (XmlValueOutOfRangeException e) {
+        }
+
+        // facets are checked when validating on set
+        XmlObject vdoc = loader.parse(doc.xmlText(), null, new XmlOptions().setValidateOnSet());
+        XmlHexBinary h = (XmlHexBinary) vdoc.selectPath(path + "h")[0];
+        assertArrayEquals(new byte[] { 1, 2 }, readAll(h.getByteStreamValue()));
+        h.setByteStreamValue(new ByteArrayInputStream(new byte[] { 3 }));
+        assertArrayEquals(new byte[] { 3 }, h.getByteArrayValue());
+        try {
+            h.setByteStreamValue(new ByteArrayInputStream(new byte[5]));
+            fail("expected XmlValueOutOfRangeException");
+        } catch (XmlValueOutOfRangeException e) {
+        }
+    }
+
+    @Test
+    public void testGeneratedAccessors() throws Exception {
+        CustomerDocument doc = CustomerDocument.Factory.parse(
+            "<customer xmlns='http://openuri.org/xstypes/test' hexAtt='4A5B'>" +
+            "<firstname>Ann</firstname><number>1</number>" +
+            "<hex>0102</hex><base64>AQID</base64></customer>");
+        Person person = doc.getCustomer();
+
+        assertArrayEquals(new byte[] { 1, 2 }, readAll(person.getHexStream()));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, readAll(person.getBase64Stream()));
+        assertArrayEquals(new byte[] { 0x4A, 0x5B }, readAll(person.getHexAttStream()));
+        assertNull(person.getBase64AttStream());
+
+        byte[] bytes = bytes(40000);
+        person.setBase64Stream(new ByteArrayInputStream(bytes));
+        assertArrayEquals(bytes, person.getBase64());
+        person.setHexStream(new ByteArrayInputStream(new byte[] { -1 }));
+        assertEquals("FF", person.xgetHex().getStringValue());
+
+        // a missing attribute is added
+        person.setBase64AttStream(new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+        assertEquals("AQID", person.xgetBase64Att().getStringValue());
+    }
+}
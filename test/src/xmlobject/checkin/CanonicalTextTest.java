@@ -0,0 +1,107 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.XmlBoolean;
+import org.apache.xmlbeans.XmlDecimal;
+import org.apache.xmlbeans.XmlInt;
+import org.apache.xmlbeans.XmlInteger;
+import org.apache.xmlbeans.XmlLong;
+import org.apache.xmlbeans.impl.values.XmlIntImpl;
+import org.junit.Test;
+import org.openuri.testNumerals.DocDocument;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the text of simple values which is kept rather than printed
+ * again: that of values without a store, and that of repeated numbers.
+ */
+public class CanonicalTextTest {
+    @Test
+    public void testImmutableValue() throws Exception {
+        XmlDecimal d = XmlDecimal.Factory.newValue(new BigDecimal("1.50"));
+        String text = d.getStringValue();
+        assertEquals("1.50", text);
+        assertSame(text, d.getStringValue());
+
+        // the text a value was parsed from is still what it validates
+        XmlBoolean b = XmlBoolean.Factory.newValue("1");
+        assertEquals("true", b.getStringValue());
+        assertEquals("true", b.getStringValue());
+        assertTrue(b.validate());
+
+        // copying the value into documents reuses its text
+        DocDocument.Doc doc = DocDocument.Factory.newInstance().addNewDoc();
+        doc.addNewDecimal().set(d);
+        doc.addNewDecimal().set(d);
+        assertEquals("1.50", doc.xgetDecimalArray(1).getStringValue());
+        assertEquals(2, doc.sizeOfDecimalArray());
+    }
+
+    @Test
+    public void testSetAfterRead() throws Exception {
+        // a value without a store keeps its text until it is next set
+        XmlInt i = new XmlIntImpl();
+        i.setIntValue(5);
+        String text = i.getStringValue();
+        assertEquals("5", text);
+        assertSame(text, i.getStringValue());
+        i.setStringValue("+6");
+        assertEquals("6", i.getStringValue());
+        i.setNil();
+        assertNull(i.getStringValue());
+        i.setIntValue(7);
+        assertEquals("7", i.getStringValue());
+        assertEquals("<xml-fragment>7</xml-fragment>", i.xmlText());
+    }
+
+    @Test
+    public void testRepeatedNumbers() throws Exception {
+        XmlInt i1 = XmlInt.Factory.newInstance();
+        XmlInt i2 = XmlInt.Factory.newInstance();
+        i1.setIntValue(1234);
+        i2.setIntValue(1234);
+        assertSame(i1.getStringValue(), i2.getStringValue());
+
+        XmlLong l = XmlLong.Factory.newInstance();
+        l.setLongValue(1234);
+        assertEquals("1234", l.getStringValue());
+        l.setLongValue(-1234567890123L);
+        assertEquals("-1234567890123", l.getStringValue());
+
+        XmlInteger n = XmlInteger.Factory.newInstance();
+        n.setBigIntegerValue(new BigInteger("1234"));
+        assertEquals("1234", n.getStringValue());
+
+        // decimals which are equal in value but not in scale print apart
+        XmlDecimal d1 = XmlDecimal.Factory.newInstance();
+        XmlDecimal d2 = XmlDecimal.Factory.newInstance();
+        d1.setBigDecimalValue(new BigDecimal("2.5"));
+        d2.setBigDecimalValue(new BigDecimal("2.50"));
+        assertEquals("2.5", d1.getStringValue());
+        assertEquals("2.50", d2.getStringValue());
+        d2.setBigDecimalValue(new BigDecimal("2.5"));
+        assertSame(d1.getStringValue(), d2.getStringValue());
+        assertEquals("<xml-fragment>2.5</xml-fragment>", d2.xmlText());
+    }
+}
@@ -15,13 +15,18 @@
 
 package xmlobject.checkin;
 
+import com.easypo.XmlCustomerBean;
 import com.easypo.XmlPurchaseOrderDocumentBean;
 import com.easypo.XmlPurchaseOrderDocumentBean.PurchaseOrder;
+import com.easypo.XmlShipperBean;
+import org.apache.xmlbeans.XmlCursor;
 import org.apache.xmlbeans.XmlException;
 import org.apache.xmlbeans.XmlObject;
 import org.junit.Test;
 import tools.util.JarUtil;
 
+import javax.xml.namespace.QName;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -101,4 +106,51 @@ public class EasyPoTests {
         } catch (XmlException e) {
         }
     }
+
+    @Test
+    public void testElementsAfterChange() throws Exception {
+        XmlPurchaseOrderDocumentBean doc = (XmlPurchaseOrderDocumentBean)
+            XmlObject.Factory.parse(JarUtil.getResourceFromJarasFile(
+                "xbean/xmlobject/easypo1.xml"));
+        PurchaseOrder order = doc.getPurchaseOrder();
+
+        // The customer and the shipper both have a name, which the two
+        // types number differently
+        XmlObject fragment = XmlObject.Factory.parse(
+            "<xml-fragment xmlns:po='http://openuri.org/easypo'>" +
+            "<po:name>David Bau</po:name></xml-fragment>");
+        XmlCustomerBean customer = (XmlCustomerBean)
+            fragment.changeType(XmlCustomerBean.type);
+        assertEquals("David Bau", customer.getName());
+        XmlShipperBean shipper = (XmlShipperBean)
+            customer.changeType(XmlShipperBean.type);
+        assertEquals("David Bau", shipper.getName());
+
+        // A renamed child
+        customer = order.getCustomer();
+        String ns = "http://openuri.org/easypo";
+        XmlCursor c = customer.newCursor();
+        assertTrue(c.toChild(ns, "name"));
+        c.setName(new QName(ns, "nickname"));
+        assertNull(customer.getName());
+        c.setName(new QName(ns, "name"));
+        assertEquals("David Bau", customer.getName());
+
+        // A child moved in from a container of another type
+        c.removeXml();
+        c.dispose();
+        assertNull(customer.getName());
+        shipper = order.getShipper();
+        assertEquals("UPS", shipper.getName());
+        c = shipper.newCursor();
+        assertTrue(c.toChild(ns, "name"));
+        XmlCursor to = customer.newCursor();
+        to.toFirstChild();
+        c.moveXml(to);
+        to.dispose();
+        c.dispose();
+        assertNull(shipper.getName());
+        assertEquals("UPS", customer.getName());
+        assertEquals("Gladwyne, PA", customer.getAddress());
+    }
 }
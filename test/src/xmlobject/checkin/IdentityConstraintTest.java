@@ -0,0 +1,228 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlError;
+import org.apache.xmlbeans.XmlErrorCodes;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the fields of keys, uniques and keyrefs, and IDs and IDREFs,
+ * are compared in their value space.
+ */
+public class IdentityConstraintTest {
+    private static final String NS = "http://xbean/xmlobject/IdentityConstraint";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='either'><xs:union memberTypes='xs:int xs:token'/></xs:simpleType>" +
+        " <xs:simpleType name='code'><xs:restriction base='xs:token'>" +
+        "  <xs:pattern value='[a-z]+'/></xs:restriction></xs:simpleType>" +
+        " <xs:complexType name='rowT'><xs:sequence>" +
+        "  <xs:element name='n' type='xs:int' minOccurs='0'/>" +
+        "  <xs:element name='d' type='xs:decimal' minOccurs='0'/>" +
+        "  <xs:element name='s' type='xs:string' minOccurs='0'/>" +
+        "  <xs:element name='k' type='xs:token' minOccurs='0'/>" +
+        "  <xs:element name='u' type='t:either' minOccurs='0'/>" +
+        "  <xs:element name='f' type='xs:double' minOccurs='0'/>" +
+        "  <xs:element name='c' type='t:code' minOccurs='0'/>" +
+        " </xs:sequence><xs:attribute name='a' type='xs:long'/></xs:complexType>" +
+        " <xs:complexType name='refT'><xs:attribute name='to' type='xs:decimal'/>" +
+        "  <xs:attribute name='s' type='xs:token'/></xs:complexType>" +
+        " <xs:element name='table'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='row' type='t:rowT' maxOccurs='unbounded'/>" +
+        " </xs:sequence></xs:complexType>" +
+        "  <xs:unique name='byN'><xs:selector xpath='t:row'/><xs:field xpath='t:n|t:d'/></xs:unique>" +
+        "  <xs:unique name='byU'><xs:selector xpath='t:row'/><xs:field xpath='t:u'/></xs:unique>" +
+        "  <xs:unique name='byS'><xs:selector xpath='t:row'/><xs:field xpath='t:s|t:k'/></xs:unique>" +
+        "  <xs:unique name='byF'><xs:selector xpath='t:row'/><xs:field xpath='t:f'/></xs:unique>" +
+        "  <xs:unique name='byC'><xs:selector xpath='t:row'/><xs:field xpath='t:c'/></xs:unique>" +
+        "  <xs:unique name='byPair'><xs:selector xpath='t:row'/>" +
+        "   <xs:field xpath='@a'/><xs:field xpath='t:k'/></xs:unique>" +
+        " </xs:element>" +
+        " <xs:element name='group'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='row' type='t:rowT' minOccurs='0' maxOccurs='unbounded'/>" +
+        "  <xs:element name='ref' type='t:refT' minOccurs='0' maxOccurs='unbounded'/>" +
+        "  <xs:element name='group' minOccurs='0' maxOccurs='unbounded'><xs:complexType><xs:sequence>" +
+        "   <xs:element name='row' type='t:rowT' maxOccurs='unbounded'/>" +
+        "  </xs:sequence></xs:complexType>" +
+        "   <xs:key name='inner'><xs:selector xpath='t:row'/><xs:field xpath='@a'/></xs:key>" +
+        "  </xs:element>" +
+        "  <xs:element name='pref' type='t:refT' minOccurs='0' maxOccurs='unbounded'/>" +
+        " </xs:sequence></xs:complexType>" +
+        "  <xs:key name='outer'><xs:selector xpath='t:row'/><xs:field xpath='@a'/></xs:key>" +
+        "  <xs:keyref name='toOuter' refer='t:outer'><xs:selector xpath='t:ref'/><xs:field xpath='@to'/></xs:keyref>" +
+        "  <xs:keyref name='toInner' refer='t:inner'><xs:selector xpath='t:pref'/><xs:field xpath='@to'/></xs:keyref>" +
+        "  <xs:key name='pair'><xs:selector xpath='t:row'/><xs:field xpath='@a'/><xs:field xpath='t:k'/></xs:key>" +
+        "  <xs:keyref name='toPair' refer='t:pair'><xs:selector xpath='t:ref'/>" +
+        "   <xs:field xpath='@to'/><xs:field xpath='@s'/></xs:keyref>" +
+        " </xs:element>" +
+        " <xs:element name='ids'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='item' maxOccurs='unbounded'><xs:complexType>" +
+        "   <xs:attribute name='id' type='xs:ID'/><xs:attribute name='ref' type='xs:IDREF'/>" +
+        "   <xs:attribute name='refs' type='xs:IDREFS'/></xs:complexType></xs:element>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    private static SchemaTypeLoader loader;
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    private static List errors(String root, String content) throws Exception {
+        XmlObject doc = loader.parse("<t:" + root + " xmlns:t='" + NS + "'>" + content +
+            "</t:" + root + ">", null, null);
+
+        List errors = new ArrayList();
+        doc.validate(new XmlOptions().setErrorListener(errors));
+
+        return errors;
+    }
+
+    private static void check(String root, String content, String[] codes) throws Exception {
+        List errors = errors(root, content);
+
+        assertEquals(errors.toString(), codes.length, errors.size());
+
+        for (int i = 0; i < codes.length; i++)
+            assertEquals(errors.toString(), codes[i], ((XmlError) errors.get(i)).getErrorCode());
+    }
+
+    private static void checkUnique(String content, int duplicates) throws Exception {
+        String[] codes = new String[duplicates];
+
+        for (int i = 0; i < duplicates; i++)
+            codes[i] = XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$DUPLICATE_UNIQUE;
+
+        check("table", content, codes);
+    }
+
+    @Test
+    public void testDecimal() throws Exception {
+        checkUnique("<t:row><t:n>7</t:n></t:row><t:row><t:d>007.00</t:d></t:row>", 1);
+        checkUnique("<t:row><t:n>-0</t:n></t:row><t:row><t:d>+0.0</t:d></t:row>", 1);
+        checkUnique("<t:row><t:n>7</t:n></t:row><t:row><t:d>7.5</t:d></t:row>", 0);
+        checkUnique("<t:row><t:d>7.50</t:d></t:row><t:row><t:d>7.5</t:d></t:row>", 1);
+        checkUnique("<t:row><t:d>123456789012345678901234</t:d></t:row>" +
+            "<t:row><t:d>0123456789012345678901234.0</t:d></t:row>", 1);
+        checkUnique("<t:row><t:n>2147483647</t:n></t:row><t:row><t:d>2147483647.0</t:d></t:row>", 1);
+    }
+
+    @Test
+    public void testString() throws Exception {
+        checkUnique("<t:row><t:s>a  b</t:s></t:row><t:row><t:k> a  b </t:k></t:row>", 0);
+        checkUnique("<t:row><t:s>a b</t:s></t:row><t:row><t:k> a  b </t:k></t:row>", 1);
+        checkUnique("<t:row><t:k>a b</t:k></t:row><t:row><t:k>a\n\tb</t:k></t:row>", 1);
+
+        // Different primitive types are never equal
+        checkUnique("<t:row><t:n>7</t:n></t:row><t:row><t:s>7</t:s></t:row>", 0);
+        checkUnique("<t:row><t:f>7</t:f></t:row><t:row><t:n>7</t:n></t:row>", 0);
+        checkUnique("<t:row><t:f>7</t:f></t:row><t:row><t:f>7.0E0</t:f></t:row>", 1);
+    }
+
+    @Test
+    public void testUnion() throws Exception {
+        checkUnique("<t:row><t:u>7</t:u></t:row><t:row><t:u>07</t:u></t:row>", 1);
+        checkUnique("<t:row><t:u>x y</t:u></t:row><t:row><t:u> x  y</t:u></t:row>", 1);
+        checkUnique("<t:row><t:u>7</t:u></t:row><t:row><t:u>7.0</t:u></t:row>", 0);
+        checkUnique("<t:row><t:u>x</t:u></t:row><t:row><t:u> x </t:u></t:row>", 1);
+    }
+
+    @Test
+    public void testComposite() throws Exception {
+        checkUnique("<t:row a='1'><t:k>x</t:k></t:row><t:row a='01'><t:k> x</t:k></t:row>", 2);
+        checkUnique("<t:row a='1'><t:k>x</t:k></t:row><t:row a='2'><t:k>x</t:k></t:row>", 1);
+
+        // Rows without all the fields are never equal
+        checkUnique("<t:row a='1'/><t:row a='1'/>", 0);
+    }
+
+    @Test
+    public void testKeyref() throws Exception {
+        String missing = XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$KEYREF_KEY_NOT_FOUND;
+
+        check("group", "<t:row a='1'><t:k>x</t:k></t:row><t:row a='2'><t:k>y</t:k></t:row>" +
+            "<t:ref to='1.0' s=' x'/><t:ref to='2' s='y'/>", new String[0]);
+        check("group", "<t:row a='1'><t:k>x</t:k></t:row>" +
+            "<t:ref to='1' s='x'/><t:ref to='1' s='y'/>", new String[] { missing });
+        check("group", "<t:row a='1'><t:k>x</t:k></t:row><t:ref to='3' s='x'/>",
+            new String[] { missing, missing });
+
+        List errors = errors("group", "<t:row a='1'><t:k>x</t:k></t:row>" +
+            "<t:ref to='1' s='x'/><t:ref to='1' s='y  z'/><t:ref to='1' s='w'/>");
+        assertEquals(errors.toString(), 1, errors.size());
+        assertEquals("Key '1 y z' not found for keyref constraint 'toPair@" + NS + "'",
+            ((XmlError) errors.get(0)).getMessage());
+    }
+
+    @Test
+    public void testNestedKeyref() throws Exception {
+        String missing = XmlErrorCodes.IDENTITY_CONSTRAINT_VALID$KEYREF_KEY_NOT_FOUND;
+
+        check("group", "<t:group><t:row a='1'/><t:row a='2'/></t:group>" +
+            "<t:group><t:row a='3'/></t:group><t:pref to='3.0'/><t:pref to='1'/>", new String[0]);
+
+        // A value of more than one child scope refers to none
+        check("group", "<t:group><t:row a='1'/></t:group>" +
+            "<t:group><t:row a='1'/></t:group><t:pref to='1'/>", new String[] { missing });
+        check("group", "<t:group><t:row a='1'/></t:group><t:pref to='4'/>", new String[] { missing });
+    }
+
+    @Test
+    public void testIds() throws Exception {
+        check("ids", "<t:item id='a' refs=' b  c'/><t:item id=' b ' ref='c'/><t:item id='c' ref=' a'/>",
+            new String[0]);
+        check("ids", "<t:item id='a'/><t:item id=' a'/>",
+            new String[] { XmlErrorCodes.ID_VALID$DUPLICATE });
+
+        List errors = errors("ids", "<t:item id='a' refs='a b'/><t:item ref=' c '/>");
+        assertEquals(errors.toString(), 2, errors.size());
+        assertEquals("ID not found for IDRef value 'b'", ((XmlError) errors.get(0)).getMessage());
+        assertEquals("ID not found for IDRef value 'c'", ((XmlError) errors.get(1)).getMessage());
+    }
+
+    @Test
+    public void testInvalidValues() throws Exception {
+        // Values which are not valid are reported once, and take no part
+        // in the identity constraints
+        String pattern = XmlErrorCodes.DATATYPE_VALID$PATTERN_VALID;
+
+        checkUnique("<t:row><t:c> ab </t:c></t:row><t:row><t:c>ab</t:c></t:row>", 1);
+        check("table", "<t:row><t:c>A1</t:c></t:row><t:row><t:c>A1</t:c></t:row>",
+            new String[] { pattern, pattern });
+
+        check("ids", "<t:item id='1a'/><t:item id='1a'/>", new String[] { pattern, pattern });
+        check("ids", "<t:item id='a' ref='1a'/>", new String[] { pattern });
+        check("ids", "<t:item id='a' refs='a 1b c'/>", new String[] { pattern });
+    }
+}
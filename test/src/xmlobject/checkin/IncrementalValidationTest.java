@@ -0,0 +1,396 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.SimpleValue;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlError;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that validating a document again, after changing it, gives the
+ * same result and the same errors when the elements found valid before
+ * are remembered as when the whole document is validated.
+ */
+public class IncrementalValidationTest {
+    private static final String NS = "http://xbean/xmlobject/IncrementalValidation";
+
+    private static final String DECLARE = "declare namespace t='" + NS + "' ";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='code'><xs:restriction base='xs:string'>" +
+        "  <xs:pattern value='[A-Z]{3}'/></xs:restriction></xs:simpleType>" +
+        " <xs:complexType name='recordT'><xs:sequence>" +
+        "  <xs:element name='code' type='t:code'/>" +
+        "  <xs:element name='amount' type='xs:decimal'/>" +
+        "  <xs:element name='kind' type='xs:QName' minOccurs='0'/>" +
+        "  <xs:element name='item' minOccurs='0' maxOccurs='unbounded'>" +
+        "   <xs:complexType mixed='true'><xs:sequence>" +
+        "    <xs:element name='n' type='xs:int' minOccurs='0'/></xs:sequence>" +
+        "    <xs:attribute name='ref' type='xs:IDREF'/></xs:complexType></xs:element>" +
+        "  <xs:element name='counts' minOccurs='0'><xs:simpleType><xs:restriction>" +
+        "   <xs:simpleType><xs:list itemType='xs:int'/></xs:simpleType>" +
+        "   <xs:maxLength value='2'/></xs:restriction></xs:simpleType></xs:element>" +
+        " </xs:sequence><xs:attribute name='id' type='xs:ID' use='required'/></xs:complexType>" +
+        " <xs:complexType name='bigRecordT'><xs:complexContent><xs:extension base='t:recordT'>" +
+        "  <xs:sequence><xs:element name='note' type='xs:string'/></xs:sequence>" +
+        " </xs:extension></xs:complexContent></xs:complexType>" +
+        " <xs:element name='filing'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='record' type='t:recordT' maxOccurs='unbounded'/>" +
+        "  <xs:element name='trailer' type='xs:int'/>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    private static SchemaTypeLoader loader;
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    private static String document(int records) {
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("<t:filing xmlns:t='").append(NS).append("' xmlns:p='urn:p'");
+        sb.append(" xmlns:xsi='http://www.w3.org/2001/XMLSchema-instance'>");
+
+        for (int i = 0; i < records; i++) {
+            sb.append("<t:record id='r").append(i).append("'>");
+            sb.append("<t:code>ABC</t:code><t:amount>12.5</t:amount>");
+            if (i % 3 == 0)
+                sb.append("<t:kind>p:k</t:kind>");
+            if (i % 4 == 0)
+                sb.append("<t:item ref='r").append((i * 7) % records).append("'>text<t:n>7</t:n></t:item>");
+            if (i % 5 == 0)
+                sb.append("<t:counts/>");
+            sb.append("</t:record>");
+        }
+
+        sb.append("<t:trailer>").append(records).append("</t:trailer>");
+        sb.append("</t:filing>");
+
+        return sb.toString();
+    }
+
+    private static XmlObject pick(XmlObject doc, String path, Random random) {
+        XmlObject[] found = doc.selectPath(DECLARE + path);
+        return found.length == 0 ? null : found[random.nextInt(found.length)];
+    }
+
+    // With c at a start, leaves it just after the start
+
+    private static boolean removeNamespace(XmlCursor c, String prefix) {
+        c.toNextToken();
+
+        for (; c.isNamespace() || c.isAttr(); c.toNextToken()) {
+            if (c.isNamespace() && c.getName().getLocalPart().equals(prefix)) {
+                c.removeXml();
+                return true;
+            }
+        }
+
+        c.toParent();
+        c.toNextToken();
+        return false;
+    }
+
+    private static void edit(XmlObject doc, Random random) {
+        XmlObject o;
+        XmlCursor c;
+
+        switch (random.nextInt(12)) {
+            case 0:
+                o = pick(doc, ".//t:code", random);
+                ((SimpleValue) o).setStringValue(random.nextInt(3) == 0 ? "abc" : "XYZ");
+                break;
+
+            case 1:
+                o = pick(doc, ".//t:amount", random);
+                if (random.nextInt(3) == 0) {
+                    c = o.newCursor();
+                    c.setTextValue("x");
+                    c.dispose();
+                } else
+                    ((SimpleValue) o).setBigDecimalValue(new BigDecimal("1.25"));
+                break;
+
+            case 2:
+                o = pick(doc, ".//t:record/@id", random);
+                ((SimpleValue) o).setStringValue(random.nextInt(3) == 0 ? "r1" : "n" + random.nextInt(100000));
+                break;
+
+            case 3:
+                o = pick(doc, ".//t:record", random);
+                c = o.newCursor();
+                c.removeXml();
+                c.dispose();
+                break;
+
+            case 4:
+                o = pick(doc, ".//t:record", random);
+                c = o.newCursor();
+                XmlCursor to = pick(doc, ".//t:record", random).newCursor();
+                if (random.nextBoolean())
+                    c.copyXml(to);
+                else if (!to.isInSameDocument(c) || to.comparePosition(c) != 0)
+                    c.moveXml(to);
+                to.dispose();
+                c.dispose();
+                break;
+
+            case 5:
+                // Declaring the prefix of the kinds or not
+
+                c = doc.newCursor();
+                c.toFirstContentToken();
+                if (!removeNamespace(c, "p"))
+                    c.insertNamespace("p", "urn:p");
+                c.dispose();
+                break;
+
+            case 6:
+                o = pick(doc, ".//t:record", random);
+                c = o.newCursor();
+                c.setAttributeText(new QName("http://www.w3.org/2001/XMLSchema-instance", "type"),
+                    random.nextBoolean() ? "t:bigRecordT" : "t:recordT");
+                c.dispose();
+                break;
+
+            case 7:
+                o = pick(doc, ".//t:item", random);
+                if (o != null) {
+                    c = o.newCursor();
+                    c.setAttributeText(new QName("ref"), random.nextBoolean() ? "nowhere" : "r2");
+                    c.dispose();
+                }
+                break;
+
+            case 8:
+                o = pick(doc, ".//t:code", random);
+                c = o.newCursor();
+                c.toEndToken();
+                c.insertChars(random.nextBoolean() ? "" : "D");
+                c.dispose();
+                break;
+
+            case 9:
+                o = pick(doc, ".//t:record", random);
+                c = o.newCursor();
+                c.toEndToken();
+                if (random.nextBoolean())
+                    c.insertElementWithText(new QName(NS, "note"), "big");
+                else
+                    c.insertElementWithText(new QName(NS, "item"), "more");
+                c.dispose();
+                break;
+
+            case 10:
+                // A record which declares the prefix of its kind itself
+
+                o = pick(doc, ".//t:kind", random);
+                if (o != null) {
+                    c = o.newCursor();
+                    c.toNextToken();
+                    c.insertNamespace("p", random.nextBoolean() ? "urn:p" : "urn:other");
+                    c.dispose();
+                }
+                break;
+
+            case 11:
+                o = pick(doc, ".//t:item", random);
+                if (o != null)
+                    o.set(XmlObject.Factory.newInstance());
+                break;
+        }
+    }
+
+    private static void check(XmlObject o, XmlOptions remembering) {
+        List fullErrors = new ArrayList();
+        boolean full = o.validate(new XmlOptions().setErrorListener(fullErrors));
+
+        List errors = new ArrayList();
+        boolean incremental = o.validate(remembering.setErrorListener(errors));
+
+        assertEquals(full, incremental);
+        assertEquals(fullErrors.toString(), fullErrors.size(), errors.size());
+
+        for (int i = 0; i < fullErrors.size(); i++) {
+            XmlError expected = (XmlError) fullErrors.get(i);
+            XmlError actual = (XmlError) errors.get(i);
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertEquals(expected.getSeverity(), actual.getSeverity());
+            assertEquals(expected.getMessage(), 0,
+                expected.getCursorLocation().comparePosition(actual.getCursorLocation()));
+        }
+    }
+
+    @Test
+    public void testUnchanged() throws Exception {
+        XmlObject doc = loader.parse(document(100), null, null);
+        XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+        assertTrue(doc.validate(options));
+        assertTrue(doc.validate(options));
+        check(doc, options);
+    }
+
+    @Test
+    public void testSetter() throws Exception {
+        XmlObject doc = loader.parse(document(100), null, null);
+        XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+        assertTrue(doc.validate(options));
+
+        SimpleValue code = (SimpleValue) doc.selectPath(DECLARE + ".//t:code")[42];
+        code.setStringValue("abc");
+        assertFalse(doc.validate(options));
+        check(doc, options);
+
+        code.setStringValue("ABC");
+        assertTrue(doc.validate(options));
+
+        // The second value set while the element is still vacant
+
+        code.setStringValue("DEF");
+        code.setStringValue("def");
+        assertFalse(doc.validate(options));
+        check(doc, options);
+
+        code.setStringValue("ABC");
+        assertTrue(doc.validate(options));
+
+        // An empty value set, which leaves no text in the document to change
+
+        SimpleValue counts = (SimpleValue) doc.selectPath(DECLARE + ".//t:counts")[3];
+        counts.setListValue(Arrays.asList(new Object[] { new Integer(1), new Integer(2), new Integer(3) }));
+        assertFalse(doc.validate(options));
+        check(doc, options);
+    }
+
+    @Test
+    public void testIds() throws Exception {
+        XmlObject doc = loader.parse(document(100), null, null);
+        XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+        assertTrue(doc.validate(options));
+
+        // An ID of a record remembered, given to one before it
+
+        ((SimpleValue) doc.selectPath(DECLARE + ".//t:record/@id")[3]).setStringValue("r50");
+        assertFalse(doc.validate(options));
+        check(doc, options);
+
+        // The IDREF to the ID changed, from the fifth record, is not found
+
+        ((SimpleValue) doc.selectPath(DECLARE + ".//t:record/@id")[3]).setStringValue("r3");
+        assertTrue(doc.validate(options));
+
+        ((SimpleValue) doc.selectPath(DECLARE + ".//t:record/@id")[28]).setStringValue("n28");
+        assertFalse(doc.validate(options));
+        check(doc, options);
+    }
+
+    @Test
+    public void testNamespaces() throws Exception {
+        XmlObject doc = loader.parse(document(30), null, null);
+        XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+        assertTrue(doc.validate(options));
+
+        XmlCursor c = doc.newCursor();
+        c.toFirstContentToken();
+        assertTrue(removeNamespace(c, "p"));
+        c.dispose();
+
+        assertFalse(doc.validate(options));
+        check(doc, options);
+    }
+
+    @Test
+    public void testElement() throws Exception {
+        XmlObject doc = loader.parse(document(50), null, null);
+        XmlObject filing = doc.selectPath(DECLARE + "t:filing")[0];
+        XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+        assertTrue(filing.validate(options));
+
+        // The IDREFs of the records remembered are checked for the document
+
+        ((SimpleValue) doc.selectPath(DECLARE + ".//t:record/@id")[28]).setStringValue("n28");
+        assertTrue(filing.validate(options));
+        assertFalse(doc.validate(options));
+        check(doc, options);
+    }
+
+    @Test
+    public void testRandomEdits() throws Exception {
+        for (int seed = 0; seed < 4; seed++) {
+            Random random = new Random(seed);
+
+            XmlObject doc = loader.parse(document(60), null, null);
+            XmlOptions options = new XmlOptions().setValidateIncrementally();
+
+            assertTrue(doc.validate(options));
+
+            for (int round = 0; round < 40; round++) {
+                int edits = 1 + random.nextInt(3);
+
+                for (int i = 0; i < edits; i++)
+                    edit(doc, random);
+
+                check(doc, options);
+            }
+        }
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        Random random = new Random(5);
+
+        XmlObject doc = loader.parse(document(150), null, null);
+        XmlOptions options = new XmlOptions().setValidateIncrementally().setValidateParallelism(4);
+
+        assertTrue(doc.validate(options));
+
+        for (int round = 0; round < 8; round++) {
+            edit(doc, random);
+            check(doc, options);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.SimpleValue;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlInt;
+import org.apache.xmlbeans.XmlLong;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.impl.values.XmlValueOutOfRangeException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the int and long values read straight from the text of the store.
+ */
+public class NumericTextTest {
+    private static final String NS = "http://xbean/xmlobject/NumericText";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='small'><xs:restriction base='xs:int'>" +
+        "  <xs:maxInclusive value='100'/></xs:restriction></xs:simpleType>" +
+        " <xs:element name='n'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='i' type='xs:int'/>" +
+        "  <xs:element name='l' type='xs:long'/>" +
+        "  <xs:element name='s' type='t:small' default='7'/>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    @Test
+    public void testInt() throws Exception {
+        assertEquals(42, XmlInt.Factory.parse("<xml-fragment>42</xml-fragment>").getIntValue());
+        assertEquals(42, XmlInt.Factory.parse("<xml-fragment>\n  +42\t</xml-fragment>").getIntValue());
+        assertEquals(-2147483648, XmlInt.Factory.parse("<xml-fragment>-2147483648</xml-fragment>").getIntValue());
+        assertEquals(12, XmlInt.Factory.parse("<xml-fragment>1<!--x-->2</xml-fragment>").getIntValue());
+
+        assertInvalid(XmlInt.Factory.parse("<xml-fragment>4 2</xml-fragment>"));
+        assertInvalid(XmlInt.Factory.parse("<xml-fragment>2147483648</xml-fragment>"));
+        assertInvalid(XmlInt.Factory.parse("<xml-fragment/>"));
+    }
+
+    @Test
+    public void testLong() throws Exception {
+        assertEquals(-9223372036854775808L,
+            XmlLong.Factory.parse("<xml-fragment> -9223372036854775808 </xml-fragment>").getLongValue());
+        assertEquals(7L, XmlLong.Factory.parse("<xml-fragment>+0007</xml-fragment>").getLongValue());
+
+        assertInvalid(XmlLong.Factory.parse("<xml-fragment>-</xml-fragment>"));
+        assertInvalid(XmlLong.Factory.parse("<xml-fragment>9223372036854775808</xml-fragment>"));
+        assertInvalid(XmlLong.Factory.parse("<xml-fragment>1.0</xml-fragment>"));
+    }
+
+    @Test
+    public void testChildren() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        SchemaTypeLoader loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+        XmlObject doc = loader.parse("<t:n xmlns:t='" + NS + "'><t:i> 5 </t:i>" +
+            "<t:l>-6</t:l><t:s/></t:n>", null, null);
+        String path = "declare namespace t='" + NS + "' .//t:";
+
+        assertEquals(5, ((SimpleValue) doc.selectPath(path + "i")[0]).getIntValue());
+        assertEquals(-6L, ((SimpleValue) doc.selectPath(path + "l")[0]).getLongValue());
+        assertEquals(7, ((SimpleValue) doc.selectPath(path + "s")[0]).getIntValue());
+
+        // the text is read again once it has changed
+        XmlObject i = doc.selectPath(path + "i")[0];
+        i.newCursor().setTextValue("+17");
+        assertEquals(17, ((SimpleValue) i).getIntValue());
+    }
+
+    private static void assertInvalid(XmlObject o) {
+        try {
+            ((SimpleValue) o).getLongValue();
+            fail("expected XmlValueOutOfRangeException for " + o.xmlText());
+        } catch (XmlValueOutOfRangeException e) {
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.SimpleValue;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlError;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.common.ValidatorListener;
+import org.apache.xmlbeans.impl.validator.Validator;
+import org.apache.xmlbeans.impl.values.XmlObjectBase;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that validating with several threads gives the same result and
+ * the same errors, at the same locations and in the same order, as
+ * validating with one.
+ */
+public class ParallelValidationTest {
+    private static final String NS = "http://xbean/xmlobject/ParallelValidation";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='code'><xs:restriction base='xs:string'>" +
+        "  <xs:pattern value='[A-Z]{3}'/></xs:restriction></xs:simpleType>" +
+        " <xs:complexType name='recordT'><xs:sequence>" +
+        "  <xs:element name='code' type='t:code'/>" +
+        "  <xs:element name='amount' type='xs:decimal'/>" +
+        "  <xs:element name='kind' type='xs:QName' minOccurs='0'/>" +
+        "  <xs:element name='item' minOccurs='0' maxOccurs='unbounded'>" +
+        "   <xs:complexType mixed='true'><xs:sequence>" +
+        "    <xs:element name='n' type='xs:int' minOccurs='0'/></xs:sequence>" +
+        "    <xs:attribute name='ref' type='xs:IDREF'/></xs:complexType></xs:element>" +
+        " </xs:sequence><xs:attribute name='id' type='xs:ID' use='required'/></xs:complexType>" +
+        " <xs:complexType name='bigRecordT'><xs:complexContent><xs:extension base='t:recordT'>" +
+        "  <xs:sequence><xs:element name='note' type='xs:string'/></xs:sequence>" +
+        " </xs:extension></xs:complexContent></xs:complexType>" +
+        " <xs:complexType name='headerT'><xs:sequence>" +
+        "  <xs:element name='name' type='xs:string'/></xs:sequence>" +
+        "  <xs:attribute name='id' type='xs:ID'/><xs:attribute name='ref' type='xs:IDREF'/>" +
+        " </xs:complexType>" +
+        " <xs:element name='filing'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='header' type='t:headerT'/>" +
+        "  <xs:element name='record' type='t:recordT' maxOccurs='unbounded'/>" +
+        "  <xs:element name='trailer' type='xs:int'/>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        " <xs:element name='keyed'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='header' type='t:headerT'/>" +
+        "  <xs:element name='record' type='t:recordT' maxOccurs='unbounded'/>" +
+        "  <xs:element name='trailer' type='xs:int'/>" +
+        " </xs:sequence></xs:complexType>" +
+        "  <xs:unique name='codes'><xs:selector xpath='t:record'/><xs:field xpath='t:code'/></xs:unique>" +
+        " </xs:element>" +
+        "</xs:schema>";
+
+    private static SchemaTypeLoader loader;
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    private static boolean fault(Random random, int percent) {
+        return random.nextInt(100) < percent;
+    }
+
+    private static String document(String root, int records, int percent, long seed) {
+        Random random = new Random(seed);
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("<t:").append(root).append(" xmlns:t='").append(NS).append("' xmlns:p='urn:p'");
+        sb.append(" xmlns:xsi='http://www.w3.org/2001/XMLSchema-instance'>");
+        sb.append("<t:header id='h' ref='r").append(records - 1).append("'><t:name>n</t:name></t:header>");
+
+        for (int i = 0; i < records; i++) {
+            boolean big = fault(random, 10);
+
+            if (fault(random, 5))
+                sb.append("<!-- record ").append(i).append(" -->");
+
+            if (fault(random, percent / 4 + 1) && percent > 0)
+                sb.append("<t:header><t:name/></t:header>");
+
+            sb.append("<t:record id='");
+            if (fault(random, percent))
+                sb.append(random.nextBoolean() ? "h" : "r" + Math.max(0, i - 5));
+            else
+                sb.append("r").append(i);
+            sb.append("'");
+            if (big)
+                sb.append(fault(random, percent) ? " xsi:type='t:nope'" : " xsi:type='t:bigRecordT'");
+            if (fault(random, 20))
+                sb.append(" xmlns:q='urn:q'");
+            sb.append(">");
+
+            sb.append("<t:code>").append(fault(random, percent) ? "abc" : "ABC").append("</t:code>");
+            sb.append("\n <t:amount>").append(fault(random, percent) ? "x" : "12.5").append("</t:amount>");
+
+            if (fault(random, 50))
+                sb.append("<t:kind>").append(fault(random, percent) ? "z:k" : "p:k").append("</t:kind>");
+
+            int items = random.nextInt(4);
+            for (int j = 0; j < items; j++) {
+                sb.append("<t:item");
+                if (fault(random, 30))
+                    sb.append(" ref='r").append(fault(random, percent) ? records + i : random.nextInt(records)).append("'");
+                sb.append(">text<!-- c -->more");
+                if (fault(random, 50))
+                    sb.append("<t:n>").append(fault(random, percent) ? "x" : "7").append("</t:n>");
+                sb.append("</t:item>");
+            }
+
+            if (big && !fault(random, percent))
+                sb.append("<t:note>big</t:note>");
+
+            if (fault(random, percent))
+                sb.append("<t:bogus/>");
+
+            sb.append("</t:record>");
+        }
+
+        sb.append("<t:trailer>").append(records).append("</t:trailer>");
+        sb.append("</t:").append(root).append(">");
+
+        return sb.toString();
+    }
+
+    private static void check(XmlObject o) {
+        List serialErrors = new ArrayList();
+        boolean serial = o.validate(new XmlOptions().setErrorListener(serialErrors));
+
+        List parallelErrors = new ArrayList();
+        boolean parallel = o.validate(
+            new XmlOptions().setErrorListener(parallelErrors).setValidateParallelism(4));
+
+        assertEquals(serial, parallel);
+        assertEquals(serial, o.validate(new XmlOptions().setValidateParallelism(4)));
+        assertEquals(serialErrors.toString(), serialErrors.size(), parallelErrors.size());
+
+        for (int i = 0; i < serialErrors.size(); i++) {
+            XmlError expected = (XmlError) serialErrors.get(i);
+            XmlError actual = (XmlError) parallelErrors.get(i);
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertEquals(expected.getSeverity(), actual.getSeverity());
+            assertEquals(expected.getMessage(), 0,
+                expected.getCursorLocation().comparePosition(actual.getCursorLocation()));
+        }
+    }
+
+    @Test
+    public void testValid() throws Exception {
+        XmlObject doc = loader.parse(document("filing", 500, 0, 1), null, null);
+
+        assertTrue(doc.validate(new XmlOptions().setValidateParallelism(4)));
+        check(doc);
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        for (int seed = 0; seed < 5; seed++) {
+            XmlObject doc = loader.parse(document("filing", 200, 3, seed), null, null);
+
+            assertFalse(doc.validate());
+            check(doc);
+        }
+    }
+
+    @Test
+    public void testVacant() throws Exception {
+        XmlObject doc = loader.parse(document("filing", 300, 0, 2), null, null);
+
+        // Values set through XmlObjects are kept by them, not in the
+        // document, and cannot be read concurrently
+
+        XmlObject[] codes = doc.selectPath("declare namespace t='" + NS + "' .//t:code");
+        for (int i = 0; i < codes.length; i += 50)
+            ((SimpleValue) codes[i]).setStringValue(i % 100 == 0 ? "XYZ" : "xyz");
+
+        assertFalse(doc.validate());
+        check(doc);
+    }
+
+    @Test
+    public void testElement() throws Exception {
+        XmlObject doc = loader.parse(document("filing", 300, 3, 3), null, null);
+
+        XmlObject filing = doc.selectPath("declare namespace t='" + NS + "' t:filing")[0];
+        check(filing);
+    }
+
+    @Test
+    public void testAbandon() throws Exception {
+        XmlObject doc = loader.parse(document("filing", 2000, 0, 6), null, null);
+
+        final Validator counted = new Validator(doc.schemaType(), null, loader,
+            new XmlOptions().setValidateParallelism(4), new ArrayList());
+        final int[] events = new int[1];
+        ((XmlObjectBase) doc).get_store().validate(new ValidatorListener() {
+            public void nextEvent(int kind, Event event) {
+                events[0]++;
+                counted.nextEvent(kind, event);
+            }
+        });
+
+        final Validator validator = new Validator(doc.schemaType(), null, loader,
+            new XmlOptions().setValidateParallelism(4), new ArrayList());
+
+        // a walk which fails half way, after many elements have been split off
+        ValidatorListener failing = new ValidatorListener() {
+            private int _events;
+
+            public void nextEvent(int kind, Event event) {
+                if (++_events == events[0] / 2)
+                    throw new IllegalStateException("walk failed");
+                validator.nextEvent(kind, event);
+            }
+        };
+
+        try {
+            ((XmlObjectBase) doc).get_store().validate(failing);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        } finally {
+            validator.abandon();
+        }
+
+        // no thread validates any of the elements once abandon returns
+        for (Iterator i = validationThreads().iterator(); i.hasNext(); ) {
+            StackTraceElement[] stack = ((Thread) i.next()).getStackTrace();
+            for (int j = 0; j < stack.length; j++)
+                assertFalse(stack[j].toString(), stack[j].getClassName().endsWith("ParallelValidation$Batch"));
+        }
+
+        // and the document can be validated again
+        assertTrue(doc.validate(new XmlOptions().setValidateParallelism(4)));
+    }
+
+    private static List validationThreads() {
+        List threads = new ArrayList();
+        for (Iterator i = Thread.getAllStackTraces().keySet().iterator(); i.hasNext(); ) {
+            Thread t = (Thread) i.next();
+            if (t.getName().equals("xmlbeans-parallel-validation"))
+                threads.add(t);
+        }
+        return threads;
+    }
+
+    @Test
+    public void testUnique() throws Exception {
+        XmlObject doc = loader.parse(document("keyed", 100, 0, 4), null, null);
+
+        assertFalse(doc.validate());
+        check(doc);
+    }
+}
@@ -0,0 +1,167 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import com.easypo.XmlPurchaseOrderDocumentBean;
+import com.easypo.pojo.XmlCustomerBean;
+import com.easypo.pojo.XmlLineItemBean;
+import com.easypo.pojo.XmlPurchaseOrderDocumentBean.PurchaseOrder;
+import org.apache.xmlbeans.GDuration;
+import org.junit.Test;
+import org.openuri.testNumerals.DocDocument;
+import tools.util.JarUtil;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the plain Java classes which scomp -pojo generates next to the
+ * XmlObject interfaces.
+ */
+public class PojoBindingTest {
+    @Test
+    public void testReadEasyPo() throws Exception {
+        String xml = JarUtil.getResourceFromJar("xbean/xmlobject/easypo1.xml");
+
+        PurchaseOrder po = com.easypo.pojo.XmlPurchaseOrderDocumentBean.parse(
+            new StringReader(xml)).getPurchaseOrder();
+        XmlPurchaseOrderDocumentBean.PurchaseOrder xpo =
+            XmlPurchaseOrderDocumentBean.Factory.parse(xml).getPurchaseOrder();
+
+        XmlCustomerBean customer = po.getCustomer();
+        assertEquals("David Bau", customer.getName());
+        assertEquals("Gladwyne, PA", customer.getAddress());
+        assertNull(customer.getAge());
+        // the defaults of absent attributes are taken
+        assertEquals(new Integer(100), customer.getMoo());
+        assertEquals(new Integer(200), customer.getPoo());
+        assertEquals(xpo.getDate().getTimeInMillis(), po.getDate().getTimeInMillis());
+
+        XmlLineItemBean[] items = po.getLineItemArray();
+        assertEquals(3, items.length);
+        assertEquals("Burnham's Celestial Handbook, Vol 2", items[1].getDescription());
+        assertEquals(new BigDecimal("19.89"), items[1].getPrice());
+        assertEquals(new BigInteger("2"), items[1].getQuantity());
+        assertEquals(new BigDecimal("5"), items[1].getPerUnitOunces());
+
+        assertEquals("UPS", po.getShipper().getName());
+        assertEquals(new BigDecimal("0.74"), po.getShipper().getPerOunceRate());
+    }
+
+    @Test
+    public void testWriteEasyPo() throws Exception {
+        String xml = JarUtil.getResourceFromJar("xbean/xmlobject/easypo1.xml");
+        com.easypo.pojo.XmlPurchaseOrderDocumentBean doc =
+            com.easypo.pojo.XmlPurchaseOrderDocumentBean.parse(new StringReader(xml));
+
+        doc.getPurchaseOrder().getCustomer().setAge(new Integer(42));
+        doc.getPurchaseOrder().setShipper(null);
+
+        StringWriter out = new StringWriter();
+        XMLStreamWriter writer = newWriter(out);
+        doc.write(writer);
+        XmlPurchaseOrderDocumentBean xdoc =
+            XmlPurchaseOrderDocumentBean.Factory.parse(finish(writer, out));
+        assertTrue(xdoc.validate());
+
+        XmlPurchaseOrderDocumentBean.PurchaseOrder xpo = xdoc.getPurchaseOrder();
+        assertEquals(42, xpo.getCustomer().getAge());
+        assertEquals(3, xpo.sizeOfLineItemArray());
+        assertEquals(new BigDecimal("21.79"), xpo.getLineItemArray(0).getPrice());
+        assertTrue(!xpo.isSetShipper());
+        assertEquals(doc.getPurchaseOrder().getDate().getTimeInMillis(),
+            xpo.getDate().getTimeInMillis());
+    }
+
+    @Test
+    public void testSimpleTypes() throws Exception {
+        String xml =
+            "<n:doc xmlns:n='http://openuri.org/testNumerals' xmlns:q='urn:q'>" +
+            "<n:int> 12 </n:int><n:int>-3</n:int>" +
+            "<n:boolean>1</n:boolean><n:double>INF</n:double>" +
+            "<n:string> a  b </n:string>" +
+            "<n:hexBinary>0aff</n:hexBinary><n:base64Binary>AQID</n:base64Binary>" +
+            "<n:date>2004-02-29</n:date><n:duration>P1DT2H</n:duration>" +
+            "<n:QName>q:name</n:QName>" +
+            "<n:unknown><n:int>5</n:int></n:unknown>" +
+            "</n:doc>";
+
+        org.openuri.testNumerals.pojo.DocDocument.Doc doc =
+            org.openuri.testNumerals.pojo.DocDocument.parse(new StringReader(xml)).getDoc();
+
+        // elements which are not properties are skipped
+        assertTrue(Arrays.equals(new int[] {12, -3}, doc.getIntArray()));
+        assertEquals(0, doc.getShortArray().length);
+        assertTrue(doc.getBooleanArray()[0]);
+        assertEquals(Double.POSITIVE_INFINITY, doc.getDoubleArray()[0], 0.0);
+        assertEquals(" a  b ", doc.getStringArray()[0]);
+        assertArrayEquals(new byte[] {10, -1}, doc.getHexBinaryArray()[0]);
+        assertArrayEquals(new byte[] {1, 2, 3}, doc.getBase64BinaryArray()[0]);
+        assertEquals(29, doc.getDateArray()[0].get(Calendar.DAY_OF_MONTH));
+        assertEquals(new GDuration("P1DT2H"), doc.getDurationArray()[0]);
+        assertEquals(new QName("urn:q", "name"), doc.getQNameArray()[0]);
+
+        org.openuri.testNumerals.pojo.DocDocument pdoc =
+            new org.openuri.testNumerals.pojo.DocDocument();
+        pdoc.setDoc(doc);
+        StringWriter out = new StringWriter();
+        XMLStreamWriter writer = newWriter(out);
+        pdoc.write(writer);
+        DocDocument.Doc xdoc = DocDocument.Factory.parse(finish(writer, out)).getDoc();
+        assertTrue(xdoc.validate());
+        assertEquals(-3, xdoc.getIntArray(1));
+        assertEquals("0AFF", xdoc.xgetHexBinaryArray(0).getStringValue());
+        assertEquals("AQID", xdoc.xgetBase64BinaryArray(0).getStringValue());
+        assertEquals("2004-02-29", xdoc.xgetDateArray(0).getStringValue());
+        assertEquals(new QName("urn:q", "name"), xdoc.getQNameArray(0));
+    }
+
+    @Test
+    public void testWrongDocumentElement() throws Exception {
+        try {
+            org.openuri.testNumerals.pojo.DocDocument.parse(
+                new StringReader("<doc xmlns='urn:other'/>"));
+            fail("expected XMLStreamException");
+        } catch (XMLStreamException e) {
+        }
+    }
+
+    private static XMLStreamWriter newWriter(StringWriter out) throws Exception {
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+        writer.writeStartDocument();
+        return writer;
+    }
+
+    private static String finish(XMLStreamWriter writer, StringWriter out) throws Exception {
+        writer.writeEndDocument();
+        writer.close();
+        return out.toString();
+    }
+}
@@ -0,0 +1,152 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.XmlCursor;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.values.XmlValueOutOfRangeException;
+import org.junit.Test;
+import org.openuri.def.DefaultsDocument;
+import org.openuri.testNumerals.DocDocument;
+import xint.test.PositionDocument;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the generated getters of primitive properties, which read the
+ * value from the text of the store while the child has no user.
+ */
+public class PrimitiveGetterTest {
+    private static final String NUMERALS =
+        "<doc xmlns='http://openuri.org/testNumerals'" +
+        " xmlns:xsi='http://www.w3.org/2001/XMLSchema-instance'" +
+        " xmlns:xs='http://www.w3.org/2001/XMLSchema'>" +
+        "<int> +5 </int><int>7<!--x-->7</int><int xsi:type='xs:int'>8</int><int/>" +
+        "<short>-3</short><byte>128</byte>" +
+        "<double>\n -2.5 </double><double>INF</double><float>1.5</float><float>1.5x</float>" +
+        "<boolean> 1 </boolean><boolean>yes</boolean>" +
+        "<long>-9223372036854775808</long>" +
+        "</doc>";
+
+    @Test
+    public void testElements() throws Exception {
+        DocDocument.Doc doc = DocDocument.Factory.parse(NUMERALS).getDoc();
+
+        assertEquals(5, doc.getIntArray(0));
+        assertEquals(77, doc.getIntArray(1));
+        assertEquals(8, doc.getIntArray(2));
+        assertEquals(-3, doc.getShortArray(0));
+        assertEquals(-2.5, doc.getDoubleArray(0), 0.0);
+        assertEquals(Double.POSITIVE_INFINITY, doc.getDoubleArray(1), 0.0);
+        assertEquals(1.5f, doc.getFloatArray(0), 0.0f);
+        assertTrue(doc.getBooleanArray(0));
+        assertEquals(Long.MIN_VALUE, doc.getLongArray(0));
+
+        assertOutOfRange(doc, "int", 3);
+        assertOutOfRange(doc, "byte", 0);
+        assertOutOfRange(doc, "float", 1);
+        assertOutOfRange(doc, "boolean", 1);
+
+        try {
+            doc.getIntArray(4);
+            fail("expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    @Test
+    public void testSameAsXget() throws Exception {
+        DocDocument.Doc doc = DocDocument.Factory.parse(NUMERALS).getDoc();
+        DocDocument.Doc xdoc = DocDocument.Factory.parse(NUMERALS).getDoc();
+
+        for (int i = 0; i < 3; i++)
+            assertEquals(xdoc.xgetIntArray(i).getIntValue(), doc.getIntArray(i));
+        assertEquals(xdoc.xgetShortArray(0).getShortValue(), doc.getShortArray(0));
+        assertEquals(xdoc.xgetDoubleArray(0).getDoubleValue(), doc.getDoubleArray(0), 0.0);
+        assertEquals(xdoc.xgetFloatArray(0).getFloatValue(), doc.getFloatArray(0), 0.0f);
+        assertEquals(xdoc.xgetBooleanArray(0).getBooleanValue(), doc.getBooleanArray(0));
+    }
+
+    @Test
+    public void testChangedValue() throws Exception {
+        DocDocument.Doc doc = DocDocument.Factory.parse(NUMERALS).getDoc();
+
+        // the value set is held by the user of the child
+        doc.setIntArray(0, 9);
+        assertEquals(9, doc.getIntArray(0));
+
+        XmlCursor c = doc.xgetIntArray(2).newCursor();
+        c.setTextValue("-10");
+        c.dispose();
+        assertEquals(-10, doc.getIntArray(2));
+
+        doc.setBooleanArray(1, false);
+        assertFalse(doc.getBooleanArray(1));
+    }
+
+    @Test
+    public void testAttribute() throws Exception {
+        String ns = "xmlns='http://openuri.org/def' xmlns:d='http://openuri.org/def'";
+
+        assertEquals(783, DefaultsDocument.Factory.parse("<defaults " + ns + "/>")
+            .getDefaults().getCool());
+        assertEquals(12, DefaultsDocument.Factory.parse("<defaults " + ns + " d:cool=' 12 '/>")
+            .getDefaults().getCool());
+    }
+
+    @Test
+    public void testValidateOnSet() throws Exception {
+        String inst = "<position xmlns='java:int.test'><lat>5</lat><lon>005</lon></position>";
+
+        PositionDocument.Position pos = PositionDocument.Factory.parse(inst).getPosition();
+        assertEquals(5, pos.getLat());
+        assertEquals(5, pos.getLon());
+
+        // the lexical facets are checked when validating on set
+        PositionDocument.Position vpos = PositionDocument.Factory.parse(inst,
+            new XmlOptions().setValidateOnSet()).getPosition();
+        PositionDocument.Position xpos = PositionDocument.Factory.parse(inst,
+            new XmlOptions().setValidateOnSet()).getPosition();
+        assertEquals(xpos.xgetLon().getShortValue(), vpos.getLon());
+        try {
+            xpos.xgetLat().getShortValue();
+        } catch (XmlValueOutOfRangeException e) {
+            try {
+                vpos.getLat();
+                fail("expected XmlValueOutOfRangeException");
+            } catch (XmlValueOutOfRangeException e2) {
+            }
+        }
+    }
+
+    private static void assertOutOfRange(DocDocument.Doc doc, String name, int i) {
+        try {
+            if (name.equals("int"))
+                doc.getIntArray(i);
+            else if (name.equals("byte"))
+                doc.getByteArray(i);
+            else if (name.equals("float"))
+                doc.getFloatArray(i);
+            else
+                doc.getBooleanArray(i);
+            fail("expected XmlValueOutOfRangeException for " + name + " " + i);
+        } catch (XmlValueOutOfRangeException e) {
+        }
+    }
+}
@@ -20,6 +20,8 @@ import org.apache.xmlbeans.XmlDate;
 import org.apache.xmlbeans.XmlObject;
 import org.apache.xmlbeans.XmlString;
 import org.junit.Test;
+import org.openuri.testNumerals.DocDocument;
+import test.xbean.xmlcursor.purchaseOrder.Items;
 import test.xbean.xmlcursor.purchaseOrder.PurchaseOrderDocument;
 import test.xbean.xmlcursor.purchaseOrder.USAddress;
 import tools.util.JarUtil;
@@ -111,5 +113,51 @@ public class SetTest extends BasicCursorTestCase {
         // assertTrue(true);
         assertFalse(pod.validate());
     }
-}
 
+    @Test
+    public void testSetArray() throws Exception {
+        String ns = "xmlns=\"http://openuri.org/testNumerals\"";
+        DocDocument xdoc = DocDocument.Factory.parse(
+            "<doc " + ns + "><int>1</int><short>7</short><int>2</int><short>8</short></doc>");
+        DocDocument.Doc doc = xdoc.getDoc();
+
+        // existing elements are set in place, new ones are added after them
+        doc.setIntArray(new int[] {10, 20, 30, 40});
+        assertEquals("<doc " + ns + "><int>10</int><short>7</short><int>20</int>" +
+            "<short>8</short><int>30</int><int>40</int></doc>", xdoc.xmlText());
+
+        // surplus elements are removed from the end
+        doc.setIntArray(new int[] {5});
+        assertEquals("<doc " + ns + "><int>5</int><short>7</short><short>8</short></doc>",
+            xdoc.xmlText());
+
+        doc.setIntArray(null);
+        doc.setShortArray(new short[] {1, 2, 3});
+        assertEquals("<doc " + ns + "><short>1</short><short>2</short><short>3</short></doc>",
+            xdoc.xmlText());
+    }
+
+    @Test
+    public void testSetComplexArray() throws Exception {
+        PurchaseOrderDocument pod = (PurchaseOrderDocument) XmlObject.Factory.parse(
+                JarUtil.getResourceFromJar("xbean/xmlcursor/po.xml"));
+        Items items = pod.getPurchaseOrder().getItems();
+        Items.Item[] old = items.getItemArray();
+        assertEquals(2, old.length);
+
+        Items.Item[] sources = new Items.Item[5];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = (Items.Item) old[i % 2].copy();
+            sources[i].setQuantity(i + 1);
+        }
+        items.setItemArray(sources);
+        assertEquals(5, items.sizeOfItemArray());
+        for (int i = 0; i < sources.length; i++)
+            assertEquals(i + 1, items.getItemArray(i).getQuantity());
+        assertTrue(pod.validate());
+
+        items.setItemArray(new Items.Item[] {sources[4]});
+        assertEquals(1, items.sizeOfItemArray());
+        assertEquals(5, items.getItemArray(0).getQuantity());
+    }
+}
@@ -0,0 +1,175 @@
+/*   Copyright 2004 The Apache Software Foundation
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package xmlobject.checkin;
+
+import org.apache.xmlbeans.SchemaTypeLoader;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.apache.xmlbeans.XmlError;
+import org.apache.xmlbeans.XmlObject;
+import org.apache.xmlbeans.XmlOptions;
+import org.apache.xmlbeans.impl.validator.ValidatingXMLStreamReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that validation stopped at an error limit gives the same result,
+ * and the same first errors, as validating the whole document.
+ */
+public class ValidateErrorLimitTest {
+    private static final String NS = "http://xbean/xmlobject/ValidateErrorLimit";
+
+    private static final String XSD =
+        "<xs:schema xmlns:xs='http://www.w3.org/2001/XMLSchema'" +
+        " xmlns:t='" + NS + "' targetNamespace='" + NS + "' elementFormDefault='qualified'>" +
+        " <xs:simpleType name='code'><xs:restriction base='xs:string'>" +
+        "  <xs:pattern value='[A-Z]{3}'/></xs:restriction></xs:simpleType>" +
+        " <xs:complexType name='recordT'><xs:sequence>" +
+        "  <xs:element name='code' type='t:code'/>" +
+        "  <xs:element name='amount' type='xs:decimal'/>" +
+        "  <xs:element name='note' type='xs:string' minOccurs='0'/>" +
+        " </xs:sequence><xs:attribute name='id' type='xs:ID' use='required'/></xs:complexType>" +
+        " <xs:element name='filing'><xs:complexType><xs:sequence>" +
+        "  <xs:element name='record' type='t:recordT' maxOccurs='unbounded'/>" +
+        "  <xs:element name='trailer' type='xs:int'/>" +
+        " </xs:sequence></xs:complexType></xs:element>" +
+        "</xs:schema>";
+
+    private static SchemaTypeLoader loader;
+
+    @BeforeClass
+    public static void compileSchema() throws Exception {
+        SchemaTypeSystem sts = XmlBeans.compileXsd(new XmlObject[] { XmlObject.Factory.parse(XSD) },
+            XmlBeans.getBuiltinTypeSystem(), null);
+        loader = XmlBeans.typeLoaderUnion(new SchemaTypeLoader[] {
+            sts, XmlBeans.getBuiltinTypeSystem() });
+    }
+
+    // Every record whose index is in bad is invalid, in one of a few ways
+    private static String document(int records, int[] bad) {
+        StringBuffer sb = new StringBuffer();
+
+        sb.append("<t:filing xmlns:t='").append(NS).append("'>");
+
+        for (int i = 0, b = 0; i < records; i++) {
+            int kind = b < bad.length && bad[b] == i ? ++b % 4 + 1 : 0;
+
+            sb.append("<t:record id='r").append(kind == 1 ? 0 : i).append("'>");
+
+            if (kind != 2)
+                sb.append("<t:code>").append(kind == 3 ? "abc" : "ABC").append("</t:code>");
+
+            sb.append("<t:amount>").append(kind == 4 ? "x" : "1.5").append("</t:amount>");
+            sb.append("</t:record>");
+        }
+
+        sb.append("<t:trailer>").append(records).append("</t:trailer></t:filing>");
+
+        return sb.toString();
+    }
+
+    private static List validate(XmlObject o, int limit) {
+        List errors = new ArrayList();
+        XmlOptions options = new XmlOptions().setErrorListener(errors);
+
+        if (limit > 0)
+            options.setValidateErrorLimit(limit);
+
+        boolean valid = o.validate(options);
+
+        assertEquals(valid, errors.isEmpty());
+
+        return errors;
+    }
+
+    private static void assertSameErrors(List expected, List actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            XmlError e = (XmlError) expected.get(i);
+            XmlError a = (XmlError) actual.get(i);
+
+            assertEquals(e.getMessage(), a.getMessage());
+            assertEquals(e.getCursorLocation().xmlText(), a.getCursorLocation().xmlText());
+        }
+    }
+
+    @Test
+    public void testValidity() throws Exception {
+        int[][] bads = {
+            {}, {0}, {499}, {1}, {2}, {3}, {10, 20, 30, 40, 50}
+        };
+
+        for (int i = 0; i < bads.length; i++) {
+            XmlObject doc = loader.parse(document(500, bads[i]), null, null);
+            XmlOptions options = new XmlOptions().setValidateErrorLimit(1);
+
+            assertEquals(doc.validate(), doc.validate(options));
+            assertEquals(bads[i].length == 0, doc.validate(options));
+        }
+    }
+
+    @Test
+    public void testFirstErrors() throws Exception {
+        XmlObject doc = loader.parse(document(200, new int[] {3, 7, 8, 50, 51, 52, 120, 199}), null, null);
+        List all = validate(doc, 0);
+
+        assertTrue(all.size() > 8);
+
+        for (int limit = 1; limit <= all.size() + 1; limit++) {
+            List errors = validate(doc, limit);
+
+            assertSameErrors(all.subList(0, Math.min(limit, all.size())), errors);
+        }
+    }
+
+    @Test
+    public void testElement() throws Exception {
+        XmlObject doc = loader.parse(document(10, new int[] {2, 3}), null, null);
+        XmlObject[] records = doc.selectPath("declare namespace t='" + NS + "' .//t:record");
+
+        for (int i = 0; i < records.length; i++) {
+            List all = validate(records[i], 0);
+
+            assertSameErrors(all.subList(0, Math.min(1, all.size())), validate(records[i], 1));
+        }
+
+        assertEquals(2, validate(records[2], 0).size());
+        assertFalse(records[3].validate(new XmlOptions().setValidateErrorLimit(1)));
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        XmlObject doc = XmlObject.Factory.parse(document(100, new int[] {5, 6, 7, 8}));
+        List errors = new ArrayList();
+        ValidatingXMLStreamReader r = new ValidatingXMLStreamReader();
+
+        r.init(doc.newXMLStreamReader(), true, null, loader,
+            new XmlOptions().setValidateErrorLimit(2), errors);
+
+        while (r.hasNext())
+            r.next();
+
+        assertFalse(r.isValid());
+        assertEquals(2, errors.size());
+    }
+}
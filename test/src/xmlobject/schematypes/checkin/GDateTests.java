@@ -696,4 +696,60 @@ public class GDateTests {
         } catch (IllegalArgumentException e) {
         }
     }
+
+    @Test
+    public void testCalendarOfGDate() {
+        String[] dates = {
+            "2004-08-01T12:30:45.125Z", "2004-08-01T12:30:45-05:30", "2004-08-01",
+            "--08-01", "12:30:45", "-0044-03-15T00:00:00+14:00", "2004-02-29T24:00:00"
+        };
+
+        java.util.Locale locale = java.util.Locale.getDefault();
+        try {
+            for (int l = 0; l < 2; l++) {
+                java.util.Locale.setDefault(l == 0 ? java.util.Locale.US : java.util.Locale.FRANCE);
+
+                for (int i = 0; i < dates.length; i++) {
+                    GDate gdate = new GDate(dates[i]);
+                    XmlCalendar expected = new XmlCalendar(gdate);
+                    XmlCalendar actual = gdate.getCalendar();
+
+                    for (int f = 0; f < Calendar.FIELD_COUNT; f++)
+                        assertEquals(dates[i] + " " + f, expected.isSet(f), actual.isSet(f));
+                    assertEquals(expected.getTimeZone(), actual.getTimeZone());
+                    assertEquals(expected.getFirstDayOfWeek(), actual.getFirstDayOfWeek());
+                    assertEquals(expected.getTimeInMillis(), actual.getTimeInMillis());
+                    assertEquals(gdate.toString(), actual.toString());
+                    assertEquals(gdate.toString(), new GDateBuilder(gdate).getCalendar().toString());
+                }
+            }
+        } finally {
+            java.util.Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testFraction() {
+        assertEquals(new BigDecimal(".5"), new GDate("12:00:00.5").getFraction());
+        assertEquals(new BigDecimal(".500"), new GDate("12:00:00.500").getFraction());
+        assertEquals(new BigDecimal(".123456789012345678"), new GDate("12:00:00.123456789012345678").getFraction());
+        assertEquals(new BigDecimal(".1234567890123456789012"), new GDate("12:00:00.1234567890123456789012").getFraction());
+    }
+
+    @Test
+    public void testDateTimeText() throws Exception {
+        XmlDateTime dt = XmlDateTime.Factory.parse("<xml-fragment>\n 2004-08-01T12:30:45.25Z </xml-fragment>");
+        assertEquals(new GDate("2004-08-01T12:30:45.25Z"), dt.getGDateValue());
+        assertEquals(new GDate("2004-08-01T12:30:45.25Z").getDate(), dt.getDateValue());
+
+        String[] invalid = { "2004-08-01", "2004-08-01 T12:30:45", "2004-13-01T00:00:00", "" };
+        for (int i = 0; i < invalid.length; i++) {
+            XmlDateTime bad = XmlDateTime.Factory.parse("<xml-fragment>" + invalid[i] + "</xml-fragment>");
+            try {
+                bad.getCalendarValue();
+                fail("expected XmlValueOutOfRangeException for " + invalid[i]);
+            } catch (org.apache.xmlbeans.impl.values.XmlValueOutOfRangeException e) {
+            }
+        }
+    }
 }